@@ -6,8 +6,6 @@ import com.playfab.PlayFabErrors.*;
 import com.playfab.PlayFabSettings;
 import java.util.concurrent.*;
 import java.util.*;
-import com.google.gson.*;
-import com.google.gson.reflect.*;
 
     /**
      * The Authentication APIs provide a convenient way to convert classic authentication responses into entity authentication
@@ -15,7 +13,7 @@ import com.google.gson.reflect.*;
      * API keys for authenticating any entity.
      */
 public class PlayFabAuthenticationAPI {
-    private static Gson gson = new GsonBuilder().setDateFormat("yyyy-MM-dd'T'HH:mm:ss.SSS'Z'").create();
+    private static final Async async = new Async();
 
     /**
      * Method to exchange a legacy AuthenticationTicket or title SecretKey for an Entity Token or to refresh a still valid
@@ -27,7 +25,7 @@ public class PlayFabAuthenticationAPI {
     public static FutureTask<PlayFabResult<GetEntityTokenResponse>> GetEntityTokenAsync(final GetEntityTokenRequest request) {
         return new FutureTask(new Callable<PlayFabResult<GetEntityTokenResponse>>() {
             public PlayFabResult<GetEntityTokenResponse> call() throws Exception {
-                return privateGetEntityTokenAsync(request);
+                return privateGetEntityTokenAsync(null, request);
             }
         });
     }
@@ -42,7 +40,7 @@ public class PlayFabAuthenticationAPI {
     public static PlayFabResult<GetEntityTokenResponse> GetEntityToken(final GetEntityTokenRequest request) {
         FutureTask<PlayFabResult<GetEntityTokenResponse>> task = new FutureTask(new Callable<PlayFabResult<GetEntityTokenResponse>>() {
             public PlayFabResult<GetEntityTokenResponse> call() throws Exception {
-                return privateGetEntityTokenAsync(request);
+                return privateGetEntityTokenAsync(null, request);
             }
         });
         try {
@@ -60,13 +58,15 @@ public class PlayFabAuthenticationAPI {
      * Entity Token.
      */
     @SuppressWarnings("unchecked")
-    private static PlayFabResult<GetEntityTokenResponse> privateGetEntityTokenAsync(final GetEntityTokenRequest request) throws Exception {
+    static PlayFabResult<GetEntityTokenResponse> privateGetEntityTokenAsync(final PlayFabInstanceAPI instance, final GetEntityTokenRequest request) throws Exception {
+        final PlayFabApiContext context = PlayFabInstanceAPI.contextOf(instance);
         String authKey = null, authValue = null;
-        if (PlayFabSettings.EntityToken != null) { authKey = "X-EntityToken"; authValue = PlayFabSettings.EntityToken; }
-        else if (PlayFabSettings.ClientSessionTicket != null) { authKey = "X-Authorization"; authValue = PlayFabSettings.ClientSessionTicket; }
-        else if (PlayFabSettings.DeveloperSecretKey != null) { authKey = "X-SecretKey"; authValue = PlayFabSettings.DeveloperSecretKey; }
+        final String entityToken = context.getEntityToken();
+        if (entityToken != null) { authKey = "X-EntityToken"; authValue = entityToken; }
+        else if (context.getClientSessionTicket() != null) { authKey = "X-Authorization"; authValue = context.getClientSessionTicket(); }
+        else if (context.getDeveloperSecretKey() != null) { authKey = "X-SecretKey"; authValue = context.getDeveloperSecretKey(); }
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Authentication/GetEntityToken"), request, authKey, authValue);
+        FutureTask<Object> task = PlayFabHTTP.doPost(context.getURL("/Authentication/GetEntityToken"), request, authKey, authValue, GetEntityTokenResponse.class);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -77,11 +77,9 @@ public class PlayFabAuthenticationAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
-
-        PlayFabJsonSuccess<GetEntityTokenResponse> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<GetEntityTokenResponse>>(){}.getType());
+        PlayFabJsonSuccess<GetEntityTokenResponse> resultData = (PlayFabJsonSuccess<GetEntityTokenResponse>) httpResult;
         GetEntityTokenResponse result = resultData.data;
-        PlayFabSettings.EntityToken = result.EntityToken != null ? result.EntityToken : PlayFabSettings.EntityToken;
+        PlayFabInstanceAPI.updateSession(instance, null, result.EntityToken);
 
         PlayFabResult<GetEntityTokenResponse> pfResult = new PlayFabResult<GetEntityTokenResponse>();
         pfResult.Result = result;
@@ -97,7 +95,7 @@ public class PlayFabAuthenticationAPI {
     public static FutureTask<PlayFabResult<ValidateEntityTokenResponse>> ValidateEntityTokenAsync(final ValidateEntityTokenRequest request) {
         return new FutureTask(new Callable<PlayFabResult<ValidateEntityTokenResponse>>() {
             public PlayFabResult<ValidateEntityTokenResponse> call() throws Exception {
-                return privateValidateEntityTokenAsync(request);
+                return privateValidateEntityTokenAsync(null, request);
             }
         });
     }
@@ -111,7 +109,7 @@ public class PlayFabAuthenticationAPI {
     public static PlayFabResult<ValidateEntityTokenResponse> ValidateEntityToken(final ValidateEntityTokenRequest request) {
         FutureTask<PlayFabResult<ValidateEntityTokenResponse>> task = new FutureTask(new Callable<PlayFabResult<ValidateEntityTokenResponse>>() {
             public PlayFabResult<ValidateEntityTokenResponse> call() throws Exception {
-                return privateValidateEntityTokenAsync(request);
+                return privateValidateEntityTokenAsync(null, request);
             }
         });
         try {
@@ -126,10 +124,12 @@ public class PlayFabAuthenticationAPI {
 
     /** Method for a server to validate a client provided EntityToken. Only callable by the title entity. */
     @SuppressWarnings("unchecked")
-    private static PlayFabResult<ValidateEntityTokenResponse> privateValidateEntityTokenAsync(final ValidateEntityTokenRequest request) throws Exception {
-        if (PlayFabSettings.EntityToken == null) throw new Exception ("Must call GetEntityToken before you can use the Entity API");
+    static PlayFabResult<ValidateEntityTokenResponse> privateValidateEntityTokenAsync(final PlayFabInstanceAPI instance, final ValidateEntityTokenRequest request) throws Exception {
+        final PlayFabApiContext context = PlayFabInstanceAPI.contextOf(instance);
+        final String entityToken = context.getEntityToken();
+        if (entityToken == null) throw new Exception ("Must call GetEntityToken before you can use the Entity API");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Authentication/ValidateEntityToken"), request, "X-EntityToken", PlayFabSettings.EntityToken);
+        FutureTask<Object> task = PlayFabHTTP.doPost(context.getURL("/Authentication/ValidateEntityToken"), request, "X-EntityToken", entityToken, ValidateEntityTokenResponse.class);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -140,9 +140,7 @@ public class PlayFabAuthenticationAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
-
-        PlayFabJsonSuccess<ValidateEntityTokenResponse> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<ValidateEntityTokenResponse>>(){}.getType());
+        PlayFabJsonSuccess<ValidateEntityTokenResponse> resultData = (PlayFabJsonSuccess<ValidateEntityTokenResponse>) httpResult;
         ValidateEntityTokenResponse result = resultData.data;
 
         PlayFabResult<ValidateEntityTokenResponse> pfResult = new PlayFabResult<ValidateEntityTokenResponse>();
@@ -150,4 +148,45 @@ public class PlayFabAuthenticationAPI {
         return pfResult;
     }
 
+    /**
+     * @return Non-blocking versions of every PlayFabAuthenticationAPI call, started on PlayFabSettings.AsyncExecutor
+     */
+    public static Async async() {
+        return async;
+    }
+
+    /**
+     * Non-blocking versions of the PlayFabAuthenticationAPI calls. Each call is already running when its PlayFabFuture is returned.
+     */
+    public static class Async {
+        private Async() {
+        }
+
+        /**
+         * Method to exchange a legacy AuthenticationTicket or title SecretKey for an Entity Token or to refresh a still valid
+         * Entity Token.
+         * @param request GetEntityTokenRequest
+         * @return Running future that will complete with GetEntityTokenResponse
+         */
+        public PlayFabFuture<PlayFabResult<GetEntityTokenResponse>> GetEntityToken(final GetEntityTokenRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<GetEntityTokenResponse>>() {
+                public PlayFabResult<GetEntityTokenResponse> call() throws Exception {
+                    return privateGetEntityTokenAsync(null, request);
+                }
+            });
+        }
+
+        /**
+         * Method for a server to validate a client provided EntityToken. Only callable by the title entity.
+         * @param request ValidateEntityTokenRequest
+         * @return Running future that will complete with ValidateEntityTokenResponse
+         */
+        public PlayFabFuture<PlayFabResult<ValidateEntityTokenResponse>> ValidateEntityToken(final ValidateEntityTokenRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<ValidateEntityTokenResponse>>() {
+                public PlayFabResult<ValidateEntityTokenResponse> call() throws Exception {
+                    return privateValidateEntityTokenAsync(null, request);
+                }
+            });
+        }
+    }
 }
@@ -0,0 +1,93 @@
+package com.playfab;
+
+import com.playfab.internal.*;
+import com.playfab.PlayFabAuthenticationModels.*;
+import com.playfab.PlayFabErrors.*;
+import com.playfab.PlayFabSettings;
+import java.util.concurrent.*;
+import java.util.*;
+
+    /**
+     * The calls of PlayFabAuthenticationAPI, made with a PlayFabApiContext of this object's own instead of PlayFabSettings. Login
+     * and GetEntityToken calls keep the credentials they return in that context
+     */
+public class PlayFabAuthenticationInstanceAPI extends PlayFabInstanceAPI {
+    private final Async async = new Async();
+
+    public PlayFabAuthenticationInstanceAPI(PlayFabApiContext context) {
+        super(context);
+    }
+
+    /**
+     * Method to exchange a legacy AuthenticationTicket or title SecretKey for an Entity Token or to refresh a still valid
+     * Entity Token.
+     * @param request GetEntityTokenRequest
+     * @return GetEntityTokenResponse
+     */
+    public PlayFabResult<GetEntityTokenResponse> GetEntityToken(final GetEntityTokenRequest request) {
+        try {
+            return PlayFabAuthenticationAPI.privateGetEntityTokenAsync(this, request);
+        } catch(Exception e) {
+            PlayFabResult<GetEntityTokenResponse> exceptionResult = new PlayFabResult<GetEntityTokenResponse>();
+            exceptionResult.Error = PlayFabHTTP.GeneratePfError(-1, PlayFabErrorCode.Unknown, e.getMessage(), null, null);
+            return exceptionResult;
+        }
+    }
+
+    /**
+     * Method for a server to validate a client provided EntityToken. Only callable by the title entity.
+     * @param request ValidateEntityTokenRequest
+     * @return ValidateEntityTokenResponse
+     */
+    public PlayFabResult<ValidateEntityTokenResponse> ValidateEntityToken(final ValidateEntityTokenRequest request) {
+        try {
+            return PlayFabAuthenticationAPI.privateValidateEntityTokenAsync(this, request);
+        } catch(Exception e) {
+            PlayFabResult<ValidateEntityTokenResponse> exceptionResult = new PlayFabResult<ValidateEntityTokenResponse>();
+            exceptionResult.Error = PlayFabHTTP.GeneratePfError(-1, PlayFabErrorCode.Unknown, e.getMessage(), null, null);
+            return exceptionResult;
+        }
+    }
+
+    /**
+     * @return Non-blocking versions of every call, made with this object's context and started on PlayFabSettings.AsyncExecutor
+     */
+    public Async async() {
+        return async;
+    }
+
+    /**
+     * Non-blocking versions of the PlayFabAuthenticationInstanceAPI calls. Each call is already running when its PlayFabFuture is returned.
+     */
+    public class Async {
+        private Async() {
+        }
+
+        /**
+         * Method to exchange a legacy AuthenticationTicket or title SecretKey for an Entity Token or to refresh a still valid
+         * Entity Token.
+         * @param request GetEntityTokenRequest
+         * @return Running future that will complete with GetEntityTokenResponse
+         */
+        public PlayFabFuture<PlayFabResult<GetEntityTokenResponse>> GetEntityToken(final GetEntityTokenRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<GetEntityTokenResponse>>() {
+                public PlayFabResult<GetEntityTokenResponse> call() throws Exception {
+                    return PlayFabAuthenticationAPI.privateGetEntityTokenAsync(PlayFabAuthenticationInstanceAPI.this, request);
+                }
+            });
+        }
+
+        /**
+         * Method for a server to validate a client provided EntityToken. Only callable by the title entity.
+         * @param request ValidateEntityTokenRequest
+         * @return Running future that will complete with ValidateEntityTokenResponse
+         */
+        public PlayFabFuture<PlayFabResult<ValidateEntityTokenResponse>> ValidateEntityToken(final ValidateEntityTokenRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<ValidateEntityTokenResponse>>() {
+                public PlayFabResult<ValidateEntityTokenResponse> call() throws Exception {
+                    return PlayFabAuthenticationAPI.privateValidateEntityTokenAsync(PlayFabAuthenticationInstanceAPI.this, request);
+                }
+            });
+        }
+    }
+}
@@ -0,0 +1,33 @@
+package com.playfab;
+
+import java.util.Date;
+import java.util.Map;
+
+import com.playfab.PlayFabErrors.*;
+
+/**
+ * Sends the classic WritePlayerEvent, WriteCharacterEvent and WriteTitleEvent calls of the Client and Server APIs some
+ * other way than one request each, such as batched through PlayFabEventsAPI.WriteEvents by a PlayFabClassicEventBatcher.
+ * The static APIs consult PlayFabSettings.ClassicEventRouter on every such call. Instance APIs, such as
+ * PlayFabServerInstanceAPI, never do: their calls carry credentials of their own, which a router serving PlayFabSettings
+ * would not send them with.
+ *
+ * The blocking calls wait for the routed event's future, which for a batcher means until its batch is sent. Set
+ * PlayFabSettings.ClassicEventWaitForBatch to false to have them return once the event is queued instead, or use the
+ * async() versions, which hand back the routed future.
+ */
+public interface PlayFabClassicEventRouter {
+    public enum EventKind {
+        Player,
+        Character,
+        Title
+    }
+
+    /**
+     * @param playFabId The player the event is about. Null for title events, and for client calls, which are about the caller
+     * @param characterId The character the event is about, for character events
+     * @return a future for the id the service assigned the event, or null to send the event with the classic call
+     */
+    public PlayFabFuture<PlayFabResult<String>> route(EventKind kind, String eventName, String playFabId, String characterId,
+        Map<String, Object> body, Map<String, String> customTags, Date timestamp);
+}
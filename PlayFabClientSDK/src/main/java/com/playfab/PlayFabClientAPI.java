@@ -6,15 +6,13 @@ import com.playfab.PlayFabErrors.*;
 import com.playfab.PlayFabSettings;
 import java.util.concurrent.*;
 import java.util.*;
-import com.google.gson.*;
-import com.google.gson.reflect.*;
 
     /**
      * APIs which provide the full range of PlayFab features available to the client - authentication, account and data
      * management, inventory, friends, matchmaking, reporting, and platform-specific functionality
      */
 public class PlayFabClientAPI {
-    private static Gson gson = new GsonBuilder().setDateFormat("yyyy-MM-dd'T'HH:mm:ss.SSS'Z'").create();
+    private static final Async async = new Async();
 
     /**
      * Accepts an open trade (one that has not yet been accepted or cancelled), if the locally signed-in player is in the
@@ -27,7 +25,7 @@ public class PlayFabClientAPI {
     public static FutureTask<PlayFabResult<AcceptTradeResponse>> AcceptTradeAsync(final AcceptTradeRequest request) {
         return new FutureTask(new Callable<PlayFabResult<AcceptTradeResponse>>() {
             public PlayFabResult<AcceptTradeResponse> call() throws Exception {
-                return privateAcceptTradeAsync(request);
+                return privateAcceptTradeAsync(null, request);
             }
         });
     }
@@ -43,7 +41,7 @@ public class PlayFabClientAPI {
     public static PlayFabResult<AcceptTradeResponse> AcceptTrade(final AcceptTradeRequest request) {
         FutureTask<PlayFabResult<AcceptTradeResponse>> task = new FutureTask(new Callable<PlayFabResult<AcceptTradeResponse>>() {
             public PlayFabResult<AcceptTradeResponse> call() throws Exception {
-                return privateAcceptTradeAsync(request);
+                return privateAcceptTradeAsync(null, request);
             }
         });
         try {
@@ -62,10 +60,11 @@ public class PlayFabClientAPI {
      * items will be swapped between the two players' inventories.
      */
     @SuppressWarnings("unchecked")
-    private static PlayFabResult<AcceptTradeResponse> privateAcceptTradeAsync(final AcceptTradeRequest request) throws Exception {
-        if (PlayFabSettings.ClientSessionTicket == null) throw new Exception ("Must be logged in to call this method");
+    static PlayFabResult<AcceptTradeResponse> privateAcceptTradeAsync(final PlayFabInstanceAPI instance, final AcceptTradeRequest request) throws Exception {
+        final PlayFabApiContext context = PlayFabInstanceAPI.contextOf(instance);
+        if (context.getClientSessionTicket() == null) throw new Exception ("Must be logged in to call this method");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Client/AcceptTrade"), request, "X-Authorization", PlayFabSettings.ClientSessionTicket);
+        FutureTask<Object> task = PlayFabHTTP.doPost(context.getURL("/Client/AcceptTrade"), request, "X-Authorization", context.getClientSessionTicket(), AcceptTradeResponse.class);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -76,9 +75,7 @@ public class PlayFabClientAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
-
-        PlayFabJsonSuccess<AcceptTradeResponse> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<AcceptTradeResponse>>(){}.getType());
+        PlayFabJsonSuccess<AcceptTradeResponse> resultData = (PlayFabJsonSuccess<AcceptTradeResponse>) httpResult;
         AcceptTradeResponse result = resultData.data;
 
         PlayFabResult<AcceptTradeResponse> pfResult = new PlayFabResult<AcceptTradeResponse>();
@@ -96,7 +93,7 @@ public class PlayFabClientAPI {
     public static FutureTask<PlayFabResult<AddFriendResult>> AddFriendAsync(final AddFriendRequest request) {
         return new FutureTask(new Callable<PlayFabResult<AddFriendResult>>() {
             public PlayFabResult<AddFriendResult> call() throws Exception {
-                return privateAddFriendAsync(request);
+                return privateAddFriendAsync(null, request);
             }
         });
     }
@@ -111,7 +108,7 @@ public class PlayFabClientAPI {
     public static PlayFabResult<AddFriendResult> AddFriend(final AddFriendRequest request) {
         FutureTask<PlayFabResult<AddFriendResult>> task = new FutureTask(new Callable<PlayFabResult<AddFriendResult>>() {
             public PlayFabResult<AddFriendResult> call() throws Exception {
-                return privateAddFriendAsync(request);
+                return privateAddFriendAsync(null, request);
             }
         });
         try {
@@ -129,10 +126,11 @@ public class PlayFabClientAPI {
      * least one of FriendPlayFabId,FriendUsername,FriendEmail, or FriendTitleDisplayName should be initialized.
      */
     @SuppressWarnings("unchecked")
-    private static PlayFabResult<AddFriendResult> privateAddFriendAsync(final AddFriendRequest request) throws Exception {
-        if (PlayFabSettings.ClientSessionTicket == null) throw new Exception ("Must be logged in to call this method");
+    static PlayFabResult<AddFriendResult> privateAddFriendAsync(final PlayFabInstanceAPI instance, final AddFriendRequest request) throws Exception {
+        final PlayFabApiContext context = PlayFabInstanceAPI.contextOf(instance);
+        if (context.getClientSessionTicket() == null) throw new Exception ("Must be logged in to call this method");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Client/AddFriend"), request, "X-Authorization", PlayFabSettings.ClientSessionTicket);
+        FutureTask<Object> task = PlayFabHTTP.doPost(context.getURL("/Client/AddFriend"), request, "X-Authorization", context.getClientSessionTicket(), AddFriendResult.class);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -143,9 +141,7 @@ public class PlayFabClientAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
-
-        PlayFabJsonSuccess<AddFriendResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<AddFriendResult>>(){}.getType());
+        PlayFabJsonSuccess<AddFriendResult> resultData = (PlayFabJsonSuccess<AddFriendResult>) httpResult;
         AddFriendResult result = resultData.data;
 
         PlayFabResult<AddFriendResult> pfResult = new PlayFabResult<AddFriendResult>();
@@ -164,7 +160,7 @@ public class PlayFabClientAPI {
     public static FutureTask<PlayFabResult<AddGenericIDResult>> AddGenericIDAsync(final AddGenericIDRequest request) {
         return new FutureTask(new Callable<PlayFabResult<AddGenericIDResult>>() {
             public PlayFabResult<AddGenericIDResult> call() throws Exception {
-                return privateAddGenericIDAsync(request);
+                return privateAddGenericIDAsync(null, request);
             }
         });
     }
@@ -180,7 +176,7 @@ public class PlayFabClientAPI {
     public static PlayFabResult<AddGenericIDResult> AddGenericID(final AddGenericIDRequest request) {
         FutureTask<PlayFabResult<AddGenericIDResult>> task = new FutureTask(new Callable<PlayFabResult<AddGenericIDResult>>() {
             public PlayFabResult<AddGenericIDResult> call() throws Exception {
-                return privateAddGenericIDAsync(request);
+                return privateAddGenericIDAsync(null, request);
             }
         });
         try {
@@ -199,10 +195,11 @@ public class PlayFabClientAPI {
      * authentication credentials, as the intent is that it is easily accessible by other players.
      */
     @SuppressWarnings("unchecked")
-    private static PlayFabResult<AddGenericIDResult> privateAddGenericIDAsync(final AddGenericIDRequest request) throws Exception {
-        if (PlayFabSettings.ClientSessionTicket == null) throw new Exception ("Must be logged in to call this method");
+    static PlayFabResult<AddGenericIDResult> privateAddGenericIDAsync(final PlayFabInstanceAPI instance, final AddGenericIDRequest request) throws Exception {
+        final PlayFabApiContext context = PlayFabInstanceAPI.contextOf(instance);
+        if (context.getClientSessionTicket() == null) throw new Exception ("Must be logged in to call this method");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Client/AddGenericID"), request, "X-Authorization", PlayFabSettings.ClientSessionTicket);
+        FutureTask<Object> task = PlayFabHTTP.doPost(context.getURL("/Client/AddGenericID"), request, "X-Authorization", context.getClientSessionTicket(), AddGenericIDResult.class);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -213,9 +210,7 @@ public class PlayFabClientAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
-
-        PlayFabJsonSuccess<AddGenericIDResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<AddGenericIDResult>>(){}.getType());
+        PlayFabJsonSuccess<AddGenericIDResult> resultData = (PlayFabJsonSuccess<AddGenericIDResult>) httpResult;
         AddGenericIDResult result = resultData.data;
 
         PlayFabResult<AddGenericIDResult> pfResult = new PlayFabResult<AddGenericIDResult>();
@@ -232,7 +227,7 @@ public class PlayFabClientAPI {
     public static FutureTask<PlayFabResult<AddOrUpdateContactEmailResult>> AddOrUpdateContactEmailAsync(final AddOrUpdateContactEmailRequest request) {
         return new FutureTask(new Callable<PlayFabResult<AddOrUpdateContactEmailResult>>() {
             public PlayFabResult<AddOrUpdateContactEmailResult> call() throws Exception {
-                return privateAddOrUpdateContactEmailAsync(request);
+                return privateAddOrUpdateContactEmailAsync(null, request);
             }
         });
     }
@@ -246,7 +241,7 @@ public class PlayFabClientAPI {
     public static PlayFabResult<AddOrUpdateContactEmailResult> AddOrUpdateContactEmail(final AddOrUpdateContactEmailRequest request) {
         FutureTask<PlayFabResult<AddOrUpdateContactEmailResult>> task = new FutureTask(new Callable<PlayFabResult<AddOrUpdateContactEmailResult>>() {
             public PlayFabResult<AddOrUpdateContactEmailResult> call() throws Exception {
-                return privateAddOrUpdateContactEmailAsync(request);
+                return privateAddOrUpdateContactEmailAsync(null, request);
             }
         });
         try {
@@ -261,10 +256,11 @@ public class PlayFabClientAPI {
 
     /** Adds or updates a contact email to the player's profile. */
     @SuppressWarnings("unchecked")
-    private static PlayFabResult<AddOrUpdateContactEmailResult> privateAddOrUpdateContactEmailAsync(final AddOrUpdateContactEmailRequest request) throws Exception {
-        if (PlayFabSettings.ClientSessionTicket == null) throw new Exception ("Must be logged in to call this method");
+    static PlayFabResult<AddOrUpdateContactEmailResult> privateAddOrUpdateContactEmailAsync(final PlayFabInstanceAPI instance, final AddOrUpdateContactEmailRequest request) throws Exception {
+        final PlayFabApiContext context = PlayFabInstanceAPI.contextOf(instance);
+        if (context.getClientSessionTicket() == null) throw new Exception ("Must be logged in to call this method");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Client/AddOrUpdateContactEmail"), request, "X-Authorization", PlayFabSettings.ClientSessionTicket);
+        FutureTask<Object> task = PlayFabHTTP.doPost(context.getURL("/Client/AddOrUpdateContactEmail"), request, "X-Authorization", context.getClientSessionTicket(), AddOrUpdateContactEmailResult.class);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -275,9 +271,7 @@ public class PlayFabClientAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
-
-        PlayFabJsonSuccess<AddOrUpdateContactEmailResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<AddOrUpdateContactEmailResult>>(){}.getType());
+        PlayFabJsonSuccess<AddOrUpdateContactEmailResult> resultData = (PlayFabJsonSuccess<AddOrUpdateContactEmailResult>) httpResult;
         AddOrUpdateContactEmailResult result = resultData.data;
 
         PlayFabResult<AddOrUpdateContactEmailResult> pfResult = new PlayFabResult<AddOrUpdateContactEmailResult>();
@@ -296,7 +290,7 @@ public class PlayFabClientAPI {
     public static FutureTask<PlayFabResult<AddSharedGroupMembersResult>> AddSharedGroupMembersAsync(final AddSharedGroupMembersRequest request) {
         return new FutureTask(new Callable<PlayFabResult<AddSharedGroupMembersResult>>() {
             public PlayFabResult<AddSharedGroupMembersResult> call() throws Exception {
-                return privateAddSharedGroupMembersAsync(request);
+                return privateAddSharedGroupMembersAsync(null, request);
             }
         });
     }
@@ -312,7 +306,7 @@ public class PlayFabClientAPI {
     public static PlayFabResult<AddSharedGroupMembersResult> AddSharedGroupMembers(final AddSharedGroupMembersRequest request) {
         FutureTask<PlayFabResult<AddSharedGroupMembersResult>> task = new FutureTask(new Callable<PlayFabResult<AddSharedGroupMembersResult>>() {
             public PlayFabResult<AddSharedGroupMembersResult> call() throws Exception {
-                return privateAddSharedGroupMembersAsync(request);
+                return privateAddSharedGroupMembersAsync(null, request);
             }
         });
         try {
@@ -331,10 +325,11 @@ public class PlayFabClientAPI {
      * please see our guide: https://docs.microsoft.com/gaming/playfab/features/social/groups/using-shared-group-data
      */
     @SuppressWarnings("unchecked")
-    private static PlayFabResult<AddSharedGroupMembersResult> privateAddSharedGroupMembersAsync(final AddSharedGroupMembersRequest request) throws Exception {
-        if (PlayFabSettings.ClientSessionTicket == null) throw new Exception ("Must be logged in to call this method");
+    static PlayFabResult<AddSharedGroupMembersResult> privateAddSharedGroupMembersAsync(final PlayFabInstanceAPI instance, final AddSharedGroupMembersRequest request) throws Exception {
+        final PlayFabApiContext context = PlayFabInstanceAPI.contextOf(instance);
+        if (context.getClientSessionTicket() == null) throw new Exception ("Must be logged in to call this method");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Client/AddSharedGroupMembers"), request, "X-Authorization", PlayFabSettings.ClientSessionTicket);
+        FutureTask<Object> task = PlayFabHTTP.doPost(context.getURL("/Client/AddSharedGroupMembers"), request, "X-Authorization", context.getClientSessionTicket(), AddSharedGroupMembersResult.class);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -345,9 +340,7 @@ public class PlayFabClientAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
-
-        PlayFabJsonSuccess<AddSharedGroupMembersResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<AddSharedGroupMembersResult>>(){}.getType());
+        PlayFabJsonSuccess<AddSharedGroupMembersResult> resultData = (PlayFabJsonSuccess<AddSharedGroupMembersResult>) httpResult;
         AddSharedGroupMembersResult result = resultData.data;
 
         PlayFabResult<AddSharedGroupMembersResult> pfResult = new PlayFabResult<AddSharedGroupMembersResult>();
@@ -365,7 +358,7 @@ public class PlayFabClientAPI {
     public static FutureTask<PlayFabResult<AddUsernamePasswordResult>> AddUsernamePasswordAsync(final AddUsernamePasswordRequest request) {
         return new FutureTask(new Callable<PlayFabResult<AddUsernamePasswordResult>>() {
             public PlayFabResult<AddUsernamePasswordResult> call() throws Exception {
-                return privateAddUsernamePasswordAsync(request);
+                return privateAddUsernamePasswordAsync(null, request);
             }
         });
     }
@@ -380,7 +373,7 @@ public class PlayFabClientAPI {
     public static PlayFabResult<AddUsernamePasswordResult> AddUsernamePassword(final AddUsernamePasswordRequest request) {
         FutureTask<PlayFabResult<AddUsernamePasswordResult>> task = new FutureTask(new Callable<PlayFabResult<AddUsernamePasswordResult>>() {
             public PlayFabResult<AddUsernamePasswordResult> call() throws Exception {
-                return privateAddUsernamePasswordAsync(request);
+                return privateAddUsernamePasswordAsync(null, request);
             }
         });
         try {
@@ -398,10 +391,11 @@ public class PlayFabClientAPI {
      * ID login.
      */
     @SuppressWarnings("unchecked")
-    private static PlayFabResult<AddUsernamePasswordResult> privateAddUsernamePasswordAsync(final AddUsernamePasswordRequest request) throws Exception {
-        if (PlayFabSettings.ClientSessionTicket == null) throw new Exception ("Must be logged in to call this method");
+    static PlayFabResult<AddUsernamePasswordResult> privateAddUsernamePasswordAsync(final PlayFabInstanceAPI instance, final AddUsernamePasswordRequest request) throws Exception {
+        final PlayFabApiContext context = PlayFabInstanceAPI.contextOf(instance);
+        if (context.getClientSessionTicket() == null) throw new Exception ("Must be logged in to call this method");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Client/AddUsernamePassword"), request, "X-Authorization", PlayFabSettings.ClientSessionTicket);
+        FutureTask<Object> task = PlayFabHTTP.doPost(context.getURL("/Client/AddUsernamePassword"), request, "X-Authorization", context.getClientSessionTicket(), AddUsernamePasswordResult.class);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -412,9 +406,7 @@ public class PlayFabClientAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
-
-        PlayFabJsonSuccess<AddUsernamePasswordResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<AddUsernamePasswordResult>>(){}.getType());
+        PlayFabJsonSuccess<AddUsernamePasswordResult> resultData = (PlayFabJsonSuccess<AddUsernamePasswordResult>) httpResult;
         AddUsernamePasswordResult result = resultData.data;
 
         PlayFabResult<AddUsernamePasswordResult> pfResult = new PlayFabResult<AddUsernamePasswordResult>();
@@ -431,7 +423,7 @@ public class PlayFabClientAPI {
     public static FutureTask<PlayFabResult<ModifyUserVirtualCurrencyResult>> AddUserVirtualCurrencyAsync(final AddUserVirtualCurrencyRequest request) {
         return new FutureTask(new Callable<PlayFabResult<ModifyUserVirtualCurrencyResult>>() {
             public PlayFabResult<ModifyUserVirtualCurrencyResult> call() throws Exception {
-                return privateAddUserVirtualCurrencyAsync(request);
+                return privateAddUserVirtualCurrencyAsync(null, request);
             }
         });
     }
@@ -445,7 +437,7 @@ public class PlayFabClientAPI {
     public static PlayFabResult<ModifyUserVirtualCurrencyResult> AddUserVirtualCurrency(final AddUserVirtualCurrencyRequest request) {
         FutureTask<PlayFabResult<ModifyUserVirtualCurrencyResult>> task = new FutureTask(new Callable<PlayFabResult<ModifyUserVirtualCurrencyResult>>() {
             public PlayFabResult<ModifyUserVirtualCurrencyResult> call() throws Exception {
-                return privateAddUserVirtualCurrencyAsync(request);
+                return privateAddUserVirtualCurrencyAsync(null, request);
             }
         });
         try {
@@ -460,10 +452,11 @@ public class PlayFabClientAPI {
 
     /** Increments the user's balance of the specified virtual currency by the stated amount */
     @SuppressWarnings("unchecked")
-    private static PlayFabResult<ModifyUserVirtualCurrencyResult> privateAddUserVirtualCurrencyAsync(final AddUserVirtualCurrencyRequest request) throws Exception {
-        if (PlayFabSettings.ClientSessionTicket == null) throw new Exception ("Must be logged in to call this method");
+    static PlayFabResult<ModifyUserVirtualCurrencyResult> privateAddUserVirtualCurrencyAsync(final PlayFabInstanceAPI instance, final AddUserVirtualCurrencyRequest request) throws Exception {
+        final PlayFabApiContext context = PlayFabInstanceAPI.contextOf(instance);
+        if (context.getClientSessionTicket() == null) throw new Exception ("Must be logged in to call this method");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Client/AddUserVirtualCurrency"), request, "X-Authorization", PlayFabSettings.ClientSessionTicket);
+        FutureTask<Object> task = PlayFabHTTP.doPost(context.getURL("/Client/AddUserVirtualCurrency"), request, "X-Authorization", context.getClientSessionTicket(), ModifyUserVirtualCurrencyResult.class);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -474,9 +467,7 @@ public class PlayFabClientAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
-
-        PlayFabJsonSuccess<ModifyUserVirtualCurrencyResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<ModifyUserVirtualCurrencyResult>>(){}.getType());
+        PlayFabJsonSuccess<ModifyUserVirtualCurrencyResult> resultData = (PlayFabJsonSuccess<ModifyUserVirtualCurrencyResult>) httpResult;
         ModifyUserVirtualCurrencyResult result = resultData.data;
 
         PlayFabResult<ModifyUserVirtualCurrencyResult> pfResult = new PlayFabResult<ModifyUserVirtualCurrencyResult>();
@@ -493,7 +484,7 @@ public class PlayFabClientAPI {
     public static FutureTask<PlayFabResult<AndroidDevicePushNotificationRegistrationResult>> AndroidDevicePushNotificationRegistrationAsync(final AndroidDevicePushNotificationRegistrationRequest request) {
         return new FutureTask(new Callable<PlayFabResult<AndroidDevicePushNotificationRegistrationResult>>() {
             public PlayFabResult<AndroidDevicePushNotificationRegistrationResult> call() throws Exception {
-                return privateAndroidDevicePushNotificationRegistrationAsync(request);
+                return privateAndroidDevicePushNotificationRegistrationAsync(null, request);
             }
         });
     }
@@ -507,7 +498,7 @@ public class PlayFabClientAPI {
     public static PlayFabResult<AndroidDevicePushNotificationRegistrationResult> AndroidDevicePushNotificationRegistration(final AndroidDevicePushNotificationRegistrationRequest request) {
         FutureTask<PlayFabResult<AndroidDevicePushNotificationRegistrationResult>> task = new FutureTask(new Callable<PlayFabResult<AndroidDevicePushNotificationRegistrationResult>>() {
             public PlayFabResult<AndroidDevicePushNotificationRegistrationResult> call() throws Exception {
-                return privateAndroidDevicePushNotificationRegistrationAsync(request);
+                return privateAndroidDevicePushNotificationRegistrationAsync(null, request);
             }
         });
         try {
@@ -522,10 +513,11 @@ public class PlayFabClientAPI {
 
     /** Registers the Android device to receive push notifications */
     @SuppressWarnings("unchecked")
-    private static PlayFabResult<AndroidDevicePushNotificationRegistrationResult> privateAndroidDevicePushNotificationRegistrationAsync(final AndroidDevicePushNotificationRegistrationRequest request) throws Exception {
-        if (PlayFabSettings.ClientSessionTicket == null) throw new Exception ("Must be logged in to call this method");
+    static PlayFabResult<AndroidDevicePushNotificationRegistrationResult> privateAndroidDevicePushNotificationRegistrationAsync(final PlayFabInstanceAPI instance, final AndroidDevicePushNotificationRegistrationRequest request) throws Exception {
+        final PlayFabApiContext context = PlayFabInstanceAPI.contextOf(instance);
+        if (context.getClientSessionTicket() == null) throw new Exception ("Must be logged in to call this method");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Client/AndroidDevicePushNotificationRegistration"), request, "X-Authorization", PlayFabSettings.ClientSessionTicket);
+        FutureTask<Object> task = PlayFabHTTP.doPost(context.getURL("/Client/AndroidDevicePushNotificationRegistration"), request, "X-Authorization", context.getClientSessionTicket(), AndroidDevicePushNotificationRegistrationResult.class);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -536,9 +528,7 @@ public class PlayFabClientAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
-
-        PlayFabJsonSuccess<AndroidDevicePushNotificationRegistrationResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<AndroidDevicePushNotificationRegistrationResult>>(){}.getType());
+        PlayFabJsonSuccess<AndroidDevicePushNotificationRegistrationResult> resultData = (PlayFabJsonSuccess<AndroidDevicePushNotificationRegistrationResult>) httpResult;
         AndroidDevicePushNotificationRegistrationResult result = resultData.data;
 
         PlayFabResult<AndroidDevicePushNotificationRegistrationResult> pfResult = new PlayFabResult<AndroidDevicePushNotificationRegistrationResult>();
@@ -555,7 +545,7 @@ public class PlayFabClientAPI {
     public static FutureTask<PlayFabResult<AttributeInstallResult>> AttributeInstallAsync(final AttributeInstallRequest request) {
         return new FutureTask(new Callable<PlayFabResult<AttributeInstallResult>>() {
             public PlayFabResult<AttributeInstallResult> call() throws Exception {
-                return privateAttributeInstallAsync(request);
+                return privateAttributeInstallAsync(null, request);
             }
         });
     }
@@ -569,7 +559,7 @@ public class PlayFabClientAPI {
     public static PlayFabResult<AttributeInstallResult> AttributeInstall(final AttributeInstallRequest request) {
         FutureTask<PlayFabResult<AttributeInstallResult>> task = new FutureTask(new Callable<PlayFabResult<AttributeInstallResult>>() {
             public PlayFabResult<AttributeInstallResult> call() throws Exception {
-                return privateAttributeInstallAsync(request);
+                return privateAttributeInstallAsync(null, request);
             }
         });
         try {
@@ -584,10 +574,11 @@ public class PlayFabClientAPI {
 
     /** Attributes an install for advertisment. */
     @SuppressWarnings("unchecked")
-    private static PlayFabResult<AttributeInstallResult> privateAttributeInstallAsync(final AttributeInstallRequest request) throws Exception {
-        if (PlayFabSettings.ClientSessionTicket == null) throw new Exception ("Must be logged in to call this method");
+    static PlayFabResult<AttributeInstallResult> privateAttributeInstallAsync(final PlayFabInstanceAPI instance, final AttributeInstallRequest request) throws Exception {
+        final PlayFabApiContext context = PlayFabInstanceAPI.contextOf(instance);
+        if (context.getClientSessionTicket() == null) throw new Exception ("Must be logged in to call this method");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Client/AttributeInstall"), request, "X-Authorization", PlayFabSettings.ClientSessionTicket);
+        FutureTask<Object> task = PlayFabHTTP.doPost(context.getURL("/Client/AttributeInstall"), request, "X-Authorization", context.getClientSessionTicket(), AttributeInstallResult.class);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -598,9 +589,7 @@ public class PlayFabClientAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
-
-        PlayFabJsonSuccess<AttributeInstallResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<AttributeInstallResult>>(){}.getType());
+        PlayFabJsonSuccess<AttributeInstallResult> resultData = (PlayFabJsonSuccess<AttributeInstallResult>) httpResult;
         AttributeInstallResult result = resultData.data;
 
         PlayFabResult<AttributeInstallResult> pfResult = new PlayFabResult<AttributeInstallResult>();
@@ -619,7 +608,7 @@ public class PlayFabClientAPI {
     public static FutureTask<PlayFabResult<CancelTradeResponse>> CancelTradeAsync(final CancelTradeRequest request) {
         return new FutureTask(new Callable<PlayFabResult<CancelTradeResponse>>() {
             public PlayFabResult<CancelTradeResponse> call() throws Exception {
-                return privateCancelTradeAsync(request);
+                return privateCancelTradeAsync(null, request);
             }
         });
     }
@@ -635,7 +624,7 @@ public class PlayFabClientAPI {
     public static PlayFabResult<CancelTradeResponse> CancelTrade(final CancelTradeRequest request) {
         FutureTask<PlayFabResult<CancelTradeResponse>> task = new FutureTask(new Callable<PlayFabResult<CancelTradeResponse>>() {
             public PlayFabResult<CancelTradeResponse> call() throws Exception {
-                return privateCancelTradeAsync(request);
+                return privateCancelTradeAsync(null, request);
             }
         });
         try {
@@ -654,10 +643,11 @@ public class PlayFabClientAPI {
      * players from accepting them, for trades that can be claimed by more than one player).
      */
     @SuppressWarnings("unchecked")
-    private static PlayFabResult<CancelTradeResponse> privateCancelTradeAsync(final CancelTradeRequest request) throws Exception {
-        if (PlayFabSettings.ClientSessionTicket == null) throw new Exception ("Must be logged in to call this method");
+    static PlayFabResult<CancelTradeResponse> privateCancelTradeAsync(final PlayFabInstanceAPI instance, final CancelTradeRequest request) throws Exception {
+        final PlayFabApiContext context = PlayFabInstanceAPI.contextOf(instance);
+        if (context.getClientSessionTicket() == null) throw new Exception ("Must be logged in to call this method");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Client/CancelTrade"), request, "X-Authorization", PlayFabSettings.ClientSessionTicket);
+        FutureTask<Object> task = PlayFabHTTP.doPost(context.getURL("/Client/CancelTrade"), request, "X-Authorization", context.getClientSessionTicket(), CancelTradeResponse.class);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -668,9 +658,7 @@ public class PlayFabClientAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
-
-        PlayFabJsonSuccess<CancelTradeResponse> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<CancelTradeResponse>>(){}.getType());
+        PlayFabJsonSuccess<CancelTradeResponse> resultData = (PlayFabJsonSuccess<CancelTradeResponse>) httpResult;
         CancelTradeResponse result = resultData.data;
 
         PlayFabResult<CancelTradeResponse> pfResult = new PlayFabResult<CancelTradeResponse>();
@@ -688,7 +676,7 @@ public class PlayFabClientAPI {
     public static FutureTask<PlayFabResult<ConfirmPurchaseResult>> ConfirmPurchaseAsync(final ConfirmPurchaseRequest request) {
         return new FutureTask(new Callable<PlayFabResult<ConfirmPurchaseResult>>() {
             public PlayFabResult<ConfirmPurchaseResult> call() throws Exception {
-                return privateConfirmPurchaseAsync(request);
+                return privateConfirmPurchaseAsync(null, request);
             }
         });
     }
@@ -703,7 +691,7 @@ public class PlayFabClientAPI {
     public static PlayFabResult<ConfirmPurchaseResult> ConfirmPurchase(final ConfirmPurchaseRequest request) {
         FutureTask<PlayFabResult<ConfirmPurchaseResult>> task = new FutureTask(new Callable<PlayFabResult<ConfirmPurchaseResult>>() {
             public PlayFabResult<ConfirmPurchaseResult> call() throws Exception {
-                return privateConfirmPurchaseAsync(request);
+                return privateConfirmPurchaseAsync(null, request);
             }
         });
         try {
@@ -721,10 +709,11 @@ public class PlayFabClientAPI {
      * currency balances as appropriate
      */
     @SuppressWarnings("unchecked")
-    private static PlayFabResult<ConfirmPurchaseResult> privateConfirmPurchaseAsync(final ConfirmPurchaseRequest request) throws Exception {
-        if (PlayFabSettings.ClientSessionTicket == null) throw new Exception ("Must be logged in to call this method");
+    static PlayFabResult<ConfirmPurchaseResult> privateConfirmPurchaseAsync(final PlayFabInstanceAPI instance, final ConfirmPurchaseRequest request) throws Exception {
+        final PlayFabApiContext context = PlayFabInstanceAPI.contextOf(instance);
+        if (context.getClientSessionTicket() == null) throw new Exception ("Must be logged in to call this method");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Client/ConfirmPurchase"), request, "X-Authorization", PlayFabSettings.ClientSessionTicket);
+        FutureTask<Object> task = PlayFabHTTP.doPost(context.getURL("/Client/ConfirmPurchase"), request, "X-Authorization", context.getClientSessionTicket(), ConfirmPurchaseResult.class);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -735,9 +724,7 @@ public class PlayFabClientAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
-
-        PlayFabJsonSuccess<ConfirmPurchaseResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<ConfirmPurchaseResult>>(){}.getType());
+        PlayFabJsonSuccess<ConfirmPurchaseResult> resultData = (PlayFabJsonSuccess<ConfirmPurchaseResult>) httpResult;
         ConfirmPurchaseResult result = resultData.data;
 
         PlayFabResult<ConfirmPurchaseResult> pfResult = new PlayFabResult<ConfirmPurchaseResult>();
@@ -754,7 +741,7 @@ public class PlayFabClientAPI {
     public static FutureTask<PlayFabResult<ConsumeItemResult>> ConsumeItemAsync(final ConsumeItemRequest request) {
         return new FutureTask(new Callable<PlayFabResult<ConsumeItemResult>>() {
             public PlayFabResult<ConsumeItemResult> call() throws Exception {
-                return privateConsumeItemAsync(request);
+                return privateConsumeItemAsync(null, request);
             }
         });
     }
@@ -768,7 +755,7 @@ public class PlayFabClientAPI {
     public static PlayFabResult<ConsumeItemResult> ConsumeItem(final ConsumeItemRequest request) {
         FutureTask<PlayFabResult<ConsumeItemResult>> task = new FutureTask(new Callable<PlayFabResult<ConsumeItemResult>>() {
             public PlayFabResult<ConsumeItemResult> call() throws Exception {
-                return privateConsumeItemAsync(request);
+                return privateConsumeItemAsync(null, request);
             }
         });
         try {
@@ -783,10 +770,11 @@ public class PlayFabClientAPI {
 
     /** Consume uses of a consumable item. When all uses are consumed, it will be removed from the player's inventory. */
     @SuppressWarnings("unchecked")
-    private static PlayFabResult<ConsumeItemResult> privateConsumeItemAsync(final ConsumeItemRequest request) throws Exception {
-        if (PlayFabSettings.ClientSessionTicket == null) throw new Exception ("Must be logged in to call this method");
+    static PlayFabResult<ConsumeItemResult> privateConsumeItemAsync(final PlayFabInstanceAPI instance, final ConsumeItemRequest request) throws Exception {
+        final PlayFabApiContext context = PlayFabInstanceAPI.contextOf(instance);
+        if (context.getClientSessionTicket() == null) throw new Exception ("Must be logged in to call this method");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Client/ConsumeItem"), request, "X-Authorization", PlayFabSettings.ClientSessionTicket);
+        FutureTask<Object> task = PlayFabHTTP.doPost(context.getURL("/Client/ConsumeItem"), request, "X-Authorization", context.getClientSessionTicket(), ConsumeItemResult.class);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -797,9 +785,7 @@ public class PlayFabClientAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
-
-        PlayFabJsonSuccess<ConsumeItemResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<ConsumeItemResult>>(){}.getType());
+        PlayFabJsonSuccess<ConsumeItemResult> resultData = (PlayFabJsonSuccess<ConsumeItemResult>) httpResult;
         ConsumeItemResult result = resultData.data;
 
         PlayFabResult<ConsumeItemResult> pfResult = new PlayFabResult<ConsumeItemResult>();
@@ -816,7 +802,7 @@ public class PlayFabClientAPI {
     public static FutureTask<PlayFabResult<ConsumeMicrosoftStoreEntitlementsResponse>> ConsumeMicrosoftStoreEntitlementsAsync(final ConsumeMicrosoftStoreEntitlementsRequest request) {
         return new FutureTask(new Callable<PlayFabResult<ConsumeMicrosoftStoreEntitlementsResponse>>() {
             public PlayFabResult<ConsumeMicrosoftStoreEntitlementsResponse> call() throws Exception {
-                return privateConsumeMicrosoftStoreEntitlementsAsync(request);
+                return privateConsumeMicrosoftStoreEntitlementsAsync(null, request);
             }
         });
     }
@@ -830,7 +816,7 @@ public class PlayFabClientAPI {
     public static PlayFabResult<ConsumeMicrosoftStoreEntitlementsResponse> ConsumeMicrosoftStoreEntitlements(final ConsumeMicrosoftStoreEntitlementsRequest request) {
         FutureTask<PlayFabResult<ConsumeMicrosoftStoreEntitlementsResponse>> task = new FutureTask(new Callable<PlayFabResult<ConsumeMicrosoftStoreEntitlementsResponse>>() {
             public PlayFabResult<ConsumeMicrosoftStoreEntitlementsResponse> call() throws Exception {
-                return privateConsumeMicrosoftStoreEntitlementsAsync(request);
+                return privateConsumeMicrosoftStoreEntitlementsAsync(null, request);
             }
         });
         try {
@@ -845,10 +831,11 @@ public class PlayFabClientAPI {
 
     /** Grants the player's current entitlements from Microsoft Store's Collection API */
     @SuppressWarnings("unchecked")
-    private static PlayFabResult<ConsumeMicrosoftStoreEntitlementsResponse> privateConsumeMicrosoftStoreEntitlementsAsync(final ConsumeMicrosoftStoreEntitlementsRequest request) throws Exception {
-        if (PlayFabSettings.ClientSessionTicket == null) throw new Exception ("Must be logged in to call this method");
+    static PlayFabResult<ConsumeMicrosoftStoreEntitlementsResponse> privateConsumeMicrosoftStoreEntitlementsAsync(final PlayFabInstanceAPI instance, final ConsumeMicrosoftStoreEntitlementsRequest request) throws Exception {
+        final PlayFabApiContext context = PlayFabInstanceAPI.contextOf(instance);
+        if (context.getClientSessionTicket() == null) throw new Exception ("Must be logged in to call this method");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Client/ConsumeMicrosoftStoreEntitlements"), request, "X-Authorization", PlayFabSettings.ClientSessionTicket);
+        FutureTask<Object> task = PlayFabHTTP.doPost(context.getURL("/Client/ConsumeMicrosoftStoreEntitlements"), request, "X-Authorization", context.getClientSessionTicket(), ConsumeMicrosoftStoreEntitlementsResponse.class);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -859,9 +846,7 @@ public class PlayFabClientAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
-
-        PlayFabJsonSuccess<ConsumeMicrosoftStoreEntitlementsResponse> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<ConsumeMicrosoftStoreEntitlementsResponse>>(){}.getType());
+        PlayFabJsonSuccess<ConsumeMicrosoftStoreEntitlementsResponse> resultData = (PlayFabJsonSuccess<ConsumeMicrosoftStoreEntitlementsResponse>) httpResult;
         ConsumeMicrosoftStoreEntitlementsResponse result = resultData.data;
 
         PlayFabResult<ConsumeMicrosoftStoreEntitlementsResponse> pfResult = new PlayFabResult<ConsumeMicrosoftStoreEntitlementsResponse>();
@@ -879,7 +864,7 @@ public class PlayFabClientAPI {
     public static FutureTask<PlayFabResult<ConsumePS5EntitlementsResult>> ConsumePS5EntitlementsAsync(final ConsumePS5EntitlementsRequest request) {
         return new FutureTask(new Callable<PlayFabResult<ConsumePS5EntitlementsResult>>() {
             public PlayFabResult<ConsumePS5EntitlementsResult> call() throws Exception {
-                return privateConsumePS5EntitlementsAsync(request);
+                return privateConsumePS5EntitlementsAsync(null, request);
             }
         });
     }
@@ -894,7 +879,7 @@ public class PlayFabClientAPI {
     public static PlayFabResult<ConsumePS5EntitlementsResult> ConsumePS5Entitlements(final ConsumePS5EntitlementsRequest request) {
         FutureTask<PlayFabResult<ConsumePS5EntitlementsResult>> task = new FutureTask(new Callable<PlayFabResult<ConsumePS5EntitlementsResult>>() {
             public PlayFabResult<ConsumePS5EntitlementsResult> call() throws Exception {
-                return privateConsumePS5EntitlementsAsync(request);
+                return privateConsumePS5EntitlementsAsync(null, request);
             }
         });
         try {
@@ -912,10 +897,11 @@ public class PlayFabClientAPI {
      * items
      */
     @SuppressWarnings("unchecked")
-    private static PlayFabResult<ConsumePS5EntitlementsResult> privateConsumePS5EntitlementsAsync(final ConsumePS5EntitlementsRequest request) throws Exception {
-        if (PlayFabSettings.ClientSessionTicket == null) throw new Exception ("Must be logged in to call this method");
+    static PlayFabResult<ConsumePS5EntitlementsResult> privateConsumePS5EntitlementsAsync(final PlayFabInstanceAPI instance, final ConsumePS5EntitlementsRequest request) throws Exception {
+        final PlayFabApiContext context = PlayFabInstanceAPI.contextOf(instance);
+        if (context.getClientSessionTicket() == null) throw new Exception ("Must be logged in to call this method");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Client/ConsumePS5Entitlements"), request, "X-Authorization", PlayFabSettings.ClientSessionTicket);
+        FutureTask<Object> task = PlayFabHTTP.doPost(context.getURL("/Client/ConsumePS5Entitlements"), request, "X-Authorization", context.getClientSessionTicket(), ConsumePS5EntitlementsResult.class);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -926,9 +912,7 @@ public class PlayFabClientAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
-
-        PlayFabJsonSuccess<ConsumePS5EntitlementsResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<ConsumePS5EntitlementsResult>>(){}.getType());
+        PlayFabJsonSuccess<ConsumePS5EntitlementsResult> resultData = (PlayFabJsonSuccess<ConsumePS5EntitlementsResult>) httpResult;
         ConsumePS5EntitlementsResult result = resultData.data;
 
         PlayFabResult<ConsumePS5EntitlementsResult> pfResult = new PlayFabResult<ConsumePS5EntitlementsResult>();
@@ -945,7 +929,7 @@ public class PlayFabClientAPI {
     public static FutureTask<PlayFabResult<ConsumePSNEntitlementsResult>> ConsumePSNEntitlementsAsync(final ConsumePSNEntitlementsRequest request) {
         return new FutureTask(new Callable<PlayFabResult<ConsumePSNEntitlementsResult>>() {
             public PlayFabResult<ConsumePSNEntitlementsResult> call() throws Exception {
-                return privateConsumePSNEntitlementsAsync(request);
+                return privateConsumePSNEntitlementsAsync(null, request);
             }
         });
     }
@@ -959,7 +943,7 @@ public class PlayFabClientAPI {
     public static PlayFabResult<ConsumePSNEntitlementsResult> ConsumePSNEntitlements(final ConsumePSNEntitlementsRequest request) {
         FutureTask<PlayFabResult<ConsumePSNEntitlementsResult>> task = new FutureTask(new Callable<PlayFabResult<ConsumePSNEntitlementsResult>>() {
             public PlayFabResult<ConsumePSNEntitlementsResult> call() throws Exception {
-                return privateConsumePSNEntitlementsAsync(request);
+                return privateConsumePSNEntitlementsAsync(null, request);
             }
         });
         try {
@@ -974,10 +958,11 @@ public class PlayFabClientAPI {
 
     /** Checks for any new consumable entitlements. If any are found, they are consumed and added as PlayFab items */
     @SuppressWarnings("unchecked")
-    private static PlayFabResult<ConsumePSNEntitlementsResult> privateConsumePSNEntitlementsAsync(final ConsumePSNEntitlementsRequest request) throws Exception {
-        if (PlayFabSettings.ClientSessionTicket == null) throw new Exception ("Must be logged in to call this method");
+    static PlayFabResult<ConsumePSNEntitlementsResult> privateConsumePSNEntitlementsAsync(final PlayFabInstanceAPI instance, final ConsumePSNEntitlementsRequest request) throws Exception {
+        final PlayFabApiContext context = PlayFabInstanceAPI.contextOf(instance);
+        if (context.getClientSessionTicket() == null) throw new Exception ("Must be logged in to call this method");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Client/ConsumePSNEntitlements"), request, "X-Authorization", PlayFabSettings.ClientSessionTicket);
+        FutureTask<Object> task = PlayFabHTTP.doPost(context.getURL("/Client/ConsumePSNEntitlements"), request, "X-Authorization", context.getClientSessionTicket(), ConsumePSNEntitlementsResult.class);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -988,9 +973,7 @@ public class PlayFabClientAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
-
-        PlayFabJsonSuccess<ConsumePSNEntitlementsResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<ConsumePSNEntitlementsResult>>(){}.getType());
+        PlayFabJsonSuccess<ConsumePSNEntitlementsResult> resultData = (PlayFabJsonSuccess<ConsumePSNEntitlementsResult>) httpResult;
         ConsumePSNEntitlementsResult result = resultData.data;
 
         PlayFabResult<ConsumePSNEntitlementsResult> pfResult = new PlayFabResult<ConsumePSNEntitlementsResult>();
@@ -1008,7 +991,7 @@ public class PlayFabClientAPI {
     public static FutureTask<PlayFabResult<ConsumeXboxEntitlementsResult>> ConsumeXboxEntitlementsAsync(final ConsumeXboxEntitlementsRequest request) {
         return new FutureTask(new Callable<PlayFabResult<ConsumeXboxEntitlementsResult>>() {
             public PlayFabResult<ConsumeXboxEntitlementsResult> call() throws Exception {
-                return privateConsumeXboxEntitlementsAsync(request);
+                return privateConsumeXboxEntitlementsAsync(null, request);
             }
         });
     }
@@ -1023,7 +1006,7 @@ public class PlayFabClientAPI {
     public static PlayFabResult<ConsumeXboxEntitlementsResult> ConsumeXboxEntitlements(final ConsumeXboxEntitlementsRequest request) {
         FutureTask<PlayFabResult<ConsumeXboxEntitlementsResult>> task = new FutureTask(new Callable<PlayFabResult<ConsumeXboxEntitlementsResult>>() {
             public PlayFabResult<ConsumeXboxEntitlementsResult> call() throws Exception {
-                return privateConsumeXboxEntitlementsAsync(request);
+                return privateConsumeXboxEntitlementsAsync(null, request);
             }
         });
         try {
@@ -1041,10 +1024,11 @@ public class PlayFabClientAPI {
      * player's PlayFab inventory. This call is idempotent and will not grant previously granted items to the player.
      */
     @SuppressWarnings("unchecked")
-    private static PlayFabResult<ConsumeXboxEntitlementsResult> privateConsumeXboxEntitlementsAsync(final ConsumeXboxEntitlementsRequest request) throws Exception {
-        if (PlayFabSettings.ClientSessionTicket == null) throw new Exception ("Must be logged in to call this method");
+    static PlayFabResult<ConsumeXboxEntitlementsResult> privateConsumeXboxEntitlementsAsync(final PlayFabInstanceAPI instance, final ConsumeXboxEntitlementsRequest request) throws Exception {
+        final PlayFabApiContext context = PlayFabInstanceAPI.contextOf(instance);
+        if (context.getClientSessionTicket() == null) throw new Exception ("Must be logged in to call this method");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Client/ConsumeXboxEntitlements"), request, "X-Authorization", PlayFabSettings.ClientSessionTicket);
+        FutureTask<Object> task = PlayFabHTTP.doPost(context.getURL("/Client/ConsumeXboxEntitlements"), request, "X-Authorization", context.getClientSessionTicket(), ConsumeXboxEntitlementsResult.class);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -1055,9 +1039,7 @@ public class PlayFabClientAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
-
-        PlayFabJsonSuccess<ConsumeXboxEntitlementsResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<ConsumeXboxEntitlementsResult>>(){}.getType());
+        PlayFabJsonSuccess<ConsumeXboxEntitlementsResult> resultData = (PlayFabJsonSuccess<ConsumeXboxEntitlementsResult>) httpResult;
         ConsumeXboxEntitlementsResult result = resultData.data;
 
         PlayFabResult<ConsumeXboxEntitlementsResult> pfResult = new PlayFabResult<ConsumeXboxEntitlementsResult>();
@@ -1077,7 +1059,7 @@ public class PlayFabClientAPI {
     public static FutureTask<PlayFabResult<CreateSharedGroupResult>> CreateSharedGroupAsync(final CreateSharedGroupRequest request) {
         return new FutureTask(new Callable<PlayFabResult<CreateSharedGroupResult>>() {
             public PlayFabResult<CreateSharedGroupResult> call() throws Exception {
-                return privateCreateSharedGroupAsync(request);
+                return privateCreateSharedGroupAsync(null, request);
             }
         });
     }
@@ -1094,7 +1076,7 @@ public class PlayFabClientAPI {
     public static PlayFabResult<CreateSharedGroupResult> CreateSharedGroup(final CreateSharedGroupRequest request) {
         FutureTask<PlayFabResult<CreateSharedGroupResult>> task = new FutureTask(new Callable<PlayFabResult<CreateSharedGroupResult>>() {
             public PlayFabResult<CreateSharedGroupResult> call() throws Exception {
-                return privateCreateSharedGroupAsync(request);
+                return privateCreateSharedGroupAsync(null, request);
             }
         });
         try {
@@ -1114,10 +1096,11 @@ public class PlayFabClientAPI {
      * https://docs.microsoft.com/gaming/playfab/features/social/groups/using-shared-group-data
      */
     @SuppressWarnings("unchecked")
-    private static PlayFabResult<CreateSharedGroupResult> privateCreateSharedGroupAsync(final CreateSharedGroupRequest request) throws Exception {
-        if (PlayFabSettings.ClientSessionTicket == null) throw new Exception ("Must be logged in to call this method");
+    static PlayFabResult<CreateSharedGroupResult> privateCreateSharedGroupAsync(final PlayFabInstanceAPI instance, final CreateSharedGroupRequest request) throws Exception {
+        final PlayFabApiContext context = PlayFabInstanceAPI.contextOf(instance);
+        if (context.getClientSessionTicket() == null) throw new Exception ("Must be logged in to call this method");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Client/CreateSharedGroup"), request, "X-Authorization", PlayFabSettings.ClientSessionTicket);
+        FutureTask<Object> task = PlayFabHTTP.doPost(context.getURL("/Client/CreateSharedGroup"), request, "X-Authorization", context.getClientSessionTicket(), CreateSharedGroupResult.class);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -1128,9 +1111,7 @@ public class PlayFabClientAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
-
-        PlayFabJsonSuccess<CreateSharedGroupResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<CreateSharedGroupResult>>(){}.getType());
+        PlayFabJsonSuccess<CreateSharedGroupResult> resultData = (PlayFabJsonSuccess<CreateSharedGroupResult>) httpResult;
         CreateSharedGroupResult result = resultData.data;
 
         PlayFabResult<CreateSharedGroupResult> pfResult = new PlayFabResult<CreateSharedGroupResult>();
@@ -1147,7 +1128,7 @@ public class PlayFabClientAPI {
     public static FutureTask<PlayFabResult<ExecuteCloudScriptResult>> ExecuteCloudScriptAsync(final ExecuteCloudScriptRequest request) {
         return new FutureTask(new Callable<PlayFabResult<ExecuteCloudScriptResult>>() {
             public PlayFabResult<ExecuteCloudScriptResult> call() throws Exception {
-                return privateExecuteCloudScriptAsync(request);
+                return privateExecuteCloudScriptAsync(null, request);
             }
         });
     }
@@ -1161,7 +1142,7 @@ public class PlayFabClientAPI {
     public static PlayFabResult<ExecuteCloudScriptResult> ExecuteCloudScript(final ExecuteCloudScriptRequest request) {
         FutureTask<PlayFabResult<ExecuteCloudScriptResult>> task = new FutureTask(new Callable<PlayFabResult<ExecuteCloudScriptResult>>() {
             public PlayFabResult<ExecuteCloudScriptResult> call() throws Exception {
-                return privateExecuteCloudScriptAsync(request);
+                return privateExecuteCloudScriptAsync(null, request);
             }
         });
         try {
@@ -1176,10 +1157,11 @@ public class PlayFabClientAPI {
 
     /** Executes a CloudScript function, with the 'currentPlayerId' set to the PlayFab ID of the authenticated player. */
     @SuppressWarnings("unchecked")
-    private static PlayFabResult<ExecuteCloudScriptResult> privateExecuteCloudScriptAsync(final ExecuteCloudScriptRequest request) throws Exception {
-        if (PlayFabSettings.ClientSessionTicket == null) throw new Exception ("Must be logged in to call this method");
+    static PlayFabResult<ExecuteCloudScriptResult> privateExecuteCloudScriptAsync(final PlayFabInstanceAPI instance, final ExecuteCloudScriptRequest request) throws Exception {
+        final PlayFabApiContext context = PlayFabInstanceAPI.contextOf(instance);
+        if (context.getClientSessionTicket() == null) throw new Exception ("Must be logged in to call this method");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Client/ExecuteCloudScript"), request, "X-Authorization", PlayFabSettings.ClientSessionTicket);
+        FutureTask<Object> task = PlayFabHTTP.doPost(context.getURL("/Client/ExecuteCloudScript"), request, "X-Authorization", context.getClientSessionTicket(), ExecuteCloudScriptResult.class);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -1190,9 +1172,7 @@ public class PlayFabClientAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
-
-        PlayFabJsonSuccess<ExecuteCloudScriptResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<ExecuteCloudScriptResult>>(){}.getType());
+        PlayFabJsonSuccess<ExecuteCloudScriptResult> resultData = (PlayFabJsonSuccess<ExecuteCloudScriptResult>) httpResult;
         ExecuteCloudScriptResult result = resultData.data;
 
         PlayFabResult<ExecuteCloudScriptResult> pfResult = new PlayFabResult<ExecuteCloudScriptResult>();
@@ -1209,7 +1189,7 @@ public class PlayFabClientAPI {
     public static FutureTask<PlayFabResult<GetAccountInfoResult>> GetAccountInfoAsync(final GetAccountInfoRequest request) {
         return new FutureTask(new Callable<PlayFabResult<GetAccountInfoResult>>() {
             public PlayFabResult<GetAccountInfoResult> call() throws Exception {
-                return privateGetAccountInfoAsync(request);
+                return privateGetAccountInfoAsync(null, request);
             }
         });
     }
@@ -1223,7 +1203,7 @@ public class PlayFabClientAPI {
     public static PlayFabResult<GetAccountInfoResult> GetAccountInfo(final GetAccountInfoRequest request) {
         FutureTask<PlayFabResult<GetAccountInfoResult>> task = new FutureTask(new Callable<PlayFabResult<GetAccountInfoResult>>() {
             public PlayFabResult<GetAccountInfoResult> call() throws Exception {
-                return privateGetAccountInfoAsync(request);
+                return privateGetAccountInfoAsync(null, request);
             }
         });
         try {
@@ -1238,10 +1218,11 @@ public class PlayFabClientAPI {
 
     /** Retrieves the user's PlayFab account details */
     @SuppressWarnings("unchecked")
-    private static PlayFabResult<GetAccountInfoResult> privateGetAccountInfoAsync(final GetAccountInfoRequest request) throws Exception {
-        if (PlayFabSettings.ClientSessionTicket == null) throw new Exception ("Must be logged in to call this method");
+    static PlayFabResult<GetAccountInfoResult> privateGetAccountInfoAsync(final PlayFabInstanceAPI instance, final GetAccountInfoRequest request) throws Exception {
+        final PlayFabApiContext context = PlayFabInstanceAPI.contextOf(instance);
+        if (context.getClientSessionTicket() == null) throw new Exception ("Must be logged in to call this method");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Client/GetAccountInfo"), request, "X-Authorization", PlayFabSettings.ClientSessionTicket);
+        FutureTask<Object> task = PlayFabHTTP.doPost(context.getURL("/Client/GetAccountInfo"), request, "X-Authorization", context.getClientSessionTicket(), GetAccountInfoResult.class);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -1252,9 +1233,7 @@ public class PlayFabClientAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
-
-        PlayFabJsonSuccess<GetAccountInfoResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<GetAccountInfoResult>>(){}.getType());
+        PlayFabJsonSuccess<GetAccountInfoResult> resultData = (PlayFabJsonSuccess<GetAccountInfoResult>) httpResult;
         GetAccountInfoResult result = resultData.data;
 
         PlayFabResult<GetAccountInfoResult> pfResult = new PlayFabResult<GetAccountInfoResult>();
@@ -1271,7 +1250,7 @@ public class PlayFabClientAPI {
     public static FutureTask<PlayFabResult<GetAdPlacementsResult>> GetAdPlacementsAsync(final GetAdPlacementsRequest request) {
         return new FutureTask(new Callable<PlayFabResult<GetAdPlacementsResult>>() {
             public PlayFabResult<GetAdPlacementsResult> call() throws Exception {
-                return privateGetAdPlacementsAsync(request);
+                return privateGetAdPlacementsAsync(null, request);
             }
         });
     }
@@ -1285,7 +1264,7 @@ public class PlayFabClientAPI {
     public static PlayFabResult<GetAdPlacementsResult> GetAdPlacements(final GetAdPlacementsRequest request) {
         FutureTask<PlayFabResult<GetAdPlacementsResult>> task = new FutureTask(new Callable<PlayFabResult<GetAdPlacementsResult>>() {
             public PlayFabResult<GetAdPlacementsResult> call() throws Exception {
-                return privateGetAdPlacementsAsync(request);
+                return privateGetAdPlacementsAsync(null, request);
             }
         });
         try {
@@ -1300,10 +1279,11 @@ public class PlayFabClientAPI {
 
     /** Returns a list of ad placements and a reward for each */
     @SuppressWarnings("unchecked")
-    private static PlayFabResult<GetAdPlacementsResult> privateGetAdPlacementsAsync(final GetAdPlacementsRequest request) throws Exception {
-        if (PlayFabSettings.ClientSessionTicket == null) throw new Exception ("Must be logged in to call this method");
+    static PlayFabResult<GetAdPlacementsResult> privateGetAdPlacementsAsync(final PlayFabInstanceAPI instance, final GetAdPlacementsRequest request) throws Exception {
+        final PlayFabApiContext context = PlayFabInstanceAPI.contextOf(instance);
+        if (context.getClientSessionTicket() == null) throw new Exception ("Must be logged in to call this method");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Client/GetAdPlacements"), request, "X-Authorization", PlayFabSettings.ClientSessionTicket);
+        FutureTask<Object> task = PlayFabHTTP.doPost(context.getURL("/Client/GetAdPlacements"), request, "X-Authorization", context.getClientSessionTicket(), GetAdPlacementsResult.class);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -1314,9 +1294,7 @@ public class PlayFabClientAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
-
-        PlayFabJsonSuccess<GetAdPlacementsResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<GetAdPlacementsResult>>(){}.getType());
+        PlayFabJsonSuccess<GetAdPlacementsResult> resultData = (PlayFabJsonSuccess<GetAdPlacementsResult>) httpResult;
         GetAdPlacementsResult result = resultData.data;
 
         PlayFabResult<GetAdPlacementsResult> pfResult = new PlayFabResult<GetAdPlacementsResult>();
@@ -1334,7 +1312,7 @@ public class PlayFabClientAPI {
     public static FutureTask<PlayFabResult<ListUsersCharactersResult>> GetAllUsersCharactersAsync(final ListUsersCharactersRequest request) {
         return new FutureTask(new Callable<PlayFabResult<ListUsersCharactersResult>>() {
             public PlayFabResult<ListUsersCharactersResult> call() throws Exception {
-                return privateGetAllUsersCharactersAsync(request);
+                return privateGetAllUsersCharactersAsync(null, request);
             }
         });
     }
@@ -1349,7 +1327,7 @@ public class PlayFabClientAPI {
     public static PlayFabResult<ListUsersCharactersResult> GetAllUsersCharacters(final ListUsersCharactersRequest request) {
         FutureTask<PlayFabResult<ListUsersCharactersResult>> task = new FutureTask(new Callable<PlayFabResult<ListUsersCharactersResult>>() {
             public PlayFabResult<ListUsersCharactersResult> call() throws Exception {
-                return privateGetAllUsersCharactersAsync(request);
+                return privateGetAllUsersCharactersAsync(null, request);
             }
         });
         try {
@@ -1367,10 +1345,11 @@ public class PlayFabClientAPI {
      * evaluated with the parent PlayFabId to guarantee uniqueness.
      */
     @SuppressWarnings("unchecked")
-    private static PlayFabResult<ListUsersCharactersResult> privateGetAllUsersCharactersAsync(final ListUsersCharactersRequest request) throws Exception {
-        if (PlayFabSettings.ClientSessionTicket == null) throw new Exception ("Must be logged in to call this method");
+    static PlayFabResult<ListUsersCharactersResult> privateGetAllUsersCharactersAsync(final PlayFabInstanceAPI instance, final ListUsersCharactersRequest request) throws Exception {
+        final PlayFabApiContext context = PlayFabInstanceAPI.contextOf(instance);
+        if (context.getClientSessionTicket() == null) throw new Exception ("Must be logged in to call this method");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Client/GetAllUsersCharacters"), request, "X-Authorization", PlayFabSettings.ClientSessionTicket);
+        FutureTask<Object> task = PlayFabHTTP.doPost(context.getURL("/Client/GetAllUsersCharacters"), request, "X-Authorization", context.getClientSessionTicket(), ListUsersCharactersResult.class);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -1381,9 +1360,7 @@ public class PlayFabClientAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
-
-        PlayFabJsonSuccess<ListUsersCharactersResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<ListUsersCharactersResult>>(){}.getType());
+        PlayFabJsonSuccess<ListUsersCharactersResult> resultData = (PlayFabJsonSuccess<ListUsersCharactersResult>) httpResult;
         ListUsersCharactersResult result = resultData.data;
 
         PlayFabResult<ListUsersCharactersResult> pfResult = new PlayFabResult<ListUsersCharactersResult>();
@@ -1400,7 +1377,7 @@ public class PlayFabClientAPI {
     public static FutureTask<PlayFabResult<GetCatalogItemsResult>> GetCatalogItemsAsync(final GetCatalogItemsRequest request) {
         return new FutureTask(new Callable<PlayFabResult<GetCatalogItemsResult>>() {
             public PlayFabResult<GetCatalogItemsResult> call() throws Exception {
-                return privateGetCatalogItemsAsync(request);
+                return privateGetCatalogItemsAsync(null, request);
             }
         });
     }
@@ -1414,7 +1391,7 @@ public class PlayFabClientAPI {
     public static PlayFabResult<GetCatalogItemsResult> GetCatalogItems(final GetCatalogItemsRequest request) {
         FutureTask<PlayFabResult<GetCatalogItemsResult>> task = new FutureTask(new Callable<PlayFabResult<GetCatalogItemsResult>>() {
             public PlayFabResult<GetCatalogItemsResult> call() throws Exception {
-                return privateGetCatalogItemsAsync(request);
+                return privateGetCatalogItemsAsync(null, request);
             }
         });
         try {
@@ -1429,10 +1406,11 @@ public class PlayFabClientAPI {
 
     /** Retrieves the specified version of the title's catalog of virtual goods, including all defined properties */
     @SuppressWarnings("unchecked")
-    private static PlayFabResult<GetCatalogItemsResult> privateGetCatalogItemsAsync(final GetCatalogItemsRequest request) throws Exception {
-        if (PlayFabSettings.ClientSessionTicket == null) throw new Exception ("Must be logged in to call this method");
+    static PlayFabResult<GetCatalogItemsResult> privateGetCatalogItemsAsync(final PlayFabInstanceAPI instance, final GetCatalogItemsRequest request) throws Exception {
+        final PlayFabApiContext context = PlayFabInstanceAPI.contextOf(instance);
+        if (context.getClientSessionTicket() == null) throw new Exception ("Must be logged in to call this method");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Client/GetCatalogItems"), request, "X-Authorization", PlayFabSettings.ClientSessionTicket);
+        FutureTask<Object> task = PlayFabHTTP.doPost(context.getURL("/Client/GetCatalogItems"), request, "X-Authorization", context.getClientSessionTicket(), GetCatalogItemsResult.class);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -1443,9 +1421,7 @@ public class PlayFabClientAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
-
-        PlayFabJsonSuccess<GetCatalogItemsResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<GetCatalogItemsResult>>(){}.getType());
+        PlayFabJsonSuccess<GetCatalogItemsResult> resultData = (PlayFabJsonSuccess<GetCatalogItemsResult>) httpResult;
         GetCatalogItemsResult result = resultData.data;
 
         PlayFabResult<GetCatalogItemsResult> pfResult = new PlayFabResult<GetCatalogItemsResult>();
@@ -1462,7 +1438,7 @@ public class PlayFabClientAPI {
     public static FutureTask<PlayFabResult<GetCharacterDataResult>> GetCharacterDataAsync(final GetCharacterDataRequest request) {
         return new FutureTask(new Callable<PlayFabResult<GetCharacterDataResult>>() {
             public PlayFabResult<GetCharacterDataResult> call() throws Exception {
-                return privateGetCharacterDataAsync(request);
+                return privateGetCharacterDataAsync(null, request);
             }
         });
     }
@@ -1476,7 +1452,7 @@ public class PlayFabClientAPI {
     public static PlayFabResult<GetCharacterDataResult> GetCharacterData(final GetCharacterDataRequest request) {
         FutureTask<PlayFabResult<GetCharacterDataResult>> task = new FutureTask(new Callable<PlayFabResult<GetCharacterDataResult>>() {
             public PlayFabResult<GetCharacterDataResult> call() throws Exception {
-                return privateGetCharacterDataAsync(request);
+                return privateGetCharacterDataAsync(null, request);
             }
         });
         try {
@@ -1491,10 +1467,11 @@ public class PlayFabClientAPI {
 
     /** Retrieves the title-specific custom data for the character which is readable and writable by the client */
     @SuppressWarnings("unchecked")
-    private static PlayFabResult<GetCharacterDataResult> privateGetCharacterDataAsync(final GetCharacterDataRequest request) throws Exception {
-        if (PlayFabSettings.ClientSessionTicket == null) throw new Exception ("Must be logged in to call this method");
+    static PlayFabResult<GetCharacterDataResult> privateGetCharacterDataAsync(final PlayFabInstanceAPI instance, final GetCharacterDataRequest request) throws Exception {
+        final PlayFabApiContext context = PlayFabInstanceAPI.contextOf(instance);
+        if (context.getClientSessionTicket() == null) throw new Exception ("Must be logged in to call this method");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Client/GetCharacterData"), request, "X-Authorization", PlayFabSettings.ClientSessionTicket);
+        FutureTask<Object> task = PlayFabHTTP.doPost(context.getURL("/Client/GetCharacterData"), request, "X-Authorization", context.getClientSessionTicket(), GetCharacterDataResult.class);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -1505,9 +1482,7 @@ public class PlayFabClientAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
-
-        PlayFabJsonSuccess<GetCharacterDataResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<GetCharacterDataResult>>(){}.getType());
+        PlayFabJsonSuccess<GetCharacterDataResult> resultData = (PlayFabJsonSuccess<GetCharacterDataResult>) httpResult;
         GetCharacterDataResult result = resultData.data;
 
         PlayFabResult<GetCharacterDataResult> pfResult = new PlayFabResult<GetCharacterDataResult>();
@@ -1524,7 +1499,7 @@ public class PlayFabClientAPI {
     public static FutureTask<PlayFabResult<GetCharacterInventoryResult>> GetCharacterInventoryAsync(final GetCharacterInventoryRequest request) {
         return new FutureTask(new Callable<PlayFabResult<GetCharacterInventoryResult>>() {
             public PlayFabResult<GetCharacterInventoryResult> call() throws Exception {
-                return privateGetCharacterInventoryAsync(request);
+                return privateGetCharacterInventoryAsync(null, request);
             }
         });
     }
@@ -1538,7 +1513,7 @@ public class PlayFabClientAPI {
     public static PlayFabResult<GetCharacterInventoryResult> GetCharacterInventory(final GetCharacterInventoryRequest request) {
         FutureTask<PlayFabResult<GetCharacterInventoryResult>> task = new FutureTask(new Callable<PlayFabResult<GetCharacterInventoryResult>>() {
             public PlayFabResult<GetCharacterInventoryResult> call() throws Exception {
-                return privateGetCharacterInventoryAsync(request);
+                return privateGetCharacterInventoryAsync(null, request);
             }
         });
         try {
@@ -1553,10 +1528,11 @@ public class PlayFabClientAPI {
 
     /** Retrieves the specified character's current inventory of virtual goods */
     @SuppressWarnings("unchecked")
-    private static PlayFabResult<GetCharacterInventoryResult> privateGetCharacterInventoryAsync(final GetCharacterInventoryRequest request) throws Exception {
-        if (PlayFabSettings.ClientSessionTicket == null) throw new Exception ("Must be logged in to call this method");
+    static PlayFabResult<GetCharacterInventoryResult> privateGetCharacterInventoryAsync(final PlayFabInstanceAPI instance, final GetCharacterInventoryRequest request) throws Exception {
+        final PlayFabApiContext context = PlayFabInstanceAPI.contextOf(instance);
+        if (context.getClientSessionTicket() == null) throw new Exception ("Must be logged in to call this method");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Client/GetCharacterInventory"), request, "X-Authorization", PlayFabSettings.ClientSessionTicket);
+        FutureTask<Object> task = PlayFabHTTP.doPost(context.getURL("/Client/GetCharacterInventory"), request, "X-Authorization", context.getClientSessionTicket(), GetCharacterInventoryResult.class);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -1567,9 +1543,7 @@ public class PlayFabClientAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
-
-        PlayFabJsonSuccess<GetCharacterInventoryResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<GetCharacterInventoryResult>>(){}.getType());
+        PlayFabJsonSuccess<GetCharacterInventoryResult> resultData = (PlayFabJsonSuccess<GetCharacterInventoryResult>) httpResult;
         GetCharacterInventoryResult result = resultData.data;
 
         PlayFabResult<GetCharacterInventoryResult> pfResult = new PlayFabResult<GetCharacterInventoryResult>();
@@ -1586,7 +1560,7 @@ public class PlayFabClientAPI {
     public static FutureTask<PlayFabResult<GetCharacterLeaderboardResult>> GetCharacterLeaderboardAsync(final GetCharacterLeaderboardRequest request) {
         return new FutureTask(new Callable<PlayFabResult<GetCharacterLeaderboardResult>>() {
             public PlayFabResult<GetCharacterLeaderboardResult> call() throws Exception {
-                return privateGetCharacterLeaderboardAsync(request);
+                return privateGetCharacterLeaderboardAsync(null, request);
             }
         });
     }
@@ -1600,7 +1574,7 @@ public class PlayFabClientAPI {
     public static PlayFabResult<GetCharacterLeaderboardResult> GetCharacterLeaderboard(final GetCharacterLeaderboardRequest request) {
         FutureTask<PlayFabResult<GetCharacterLeaderboardResult>> task = new FutureTask(new Callable<PlayFabResult<GetCharacterLeaderboardResult>>() {
             public PlayFabResult<GetCharacterLeaderboardResult> call() throws Exception {
-                return privateGetCharacterLeaderboardAsync(request);
+                return privateGetCharacterLeaderboardAsync(null, request);
             }
         });
         try {
@@ -1615,10 +1589,11 @@ public class PlayFabClientAPI {
 
     /** Retrieves a list of ranked characters for the given statistic, starting from the indicated point in the leaderboard */
     @SuppressWarnings("unchecked")
-    private static PlayFabResult<GetCharacterLeaderboardResult> privateGetCharacterLeaderboardAsync(final GetCharacterLeaderboardRequest request) throws Exception {
-        if (PlayFabSettings.ClientSessionTicket == null) throw new Exception ("Must be logged in to call this method");
+    static PlayFabResult<GetCharacterLeaderboardResult> privateGetCharacterLeaderboardAsync(final PlayFabInstanceAPI instance, final GetCharacterLeaderboardRequest request) throws Exception {
+        final PlayFabApiContext context = PlayFabInstanceAPI.contextOf(instance);
+        if (context.getClientSessionTicket() == null) throw new Exception ("Must be logged in to call this method");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Client/GetCharacterLeaderboard"), request, "X-Authorization", PlayFabSettings.ClientSessionTicket);
+        FutureTask<Object> task = PlayFabHTTP.doPost(context.getURL("/Client/GetCharacterLeaderboard"), request, "X-Authorization", context.getClientSessionTicket(), GetCharacterLeaderboardResult.class);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -1629,9 +1604,7 @@ public class PlayFabClientAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
-
-        PlayFabJsonSuccess<GetCharacterLeaderboardResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<GetCharacterLeaderboardResult>>(){}.getType());
+        PlayFabJsonSuccess<GetCharacterLeaderboardResult> resultData = (PlayFabJsonSuccess<GetCharacterLeaderboardResult>) httpResult;
         GetCharacterLeaderboardResult result = resultData.data;
 
         PlayFabResult<GetCharacterLeaderboardResult> pfResult = new PlayFabResult<GetCharacterLeaderboardResult>();
@@ -1648,7 +1621,7 @@ public class PlayFabClientAPI {
     public static FutureTask<PlayFabResult<GetCharacterDataResult>> GetCharacterReadOnlyDataAsync(final GetCharacterDataRequest request) {
         return new FutureTask(new Callable<PlayFabResult<GetCharacterDataResult>>() {
             public PlayFabResult<GetCharacterDataResult> call() throws Exception {
-                return privateGetCharacterReadOnlyDataAsync(request);
+                return privateGetCharacterReadOnlyDataAsync(null, request);
             }
         });
     }
@@ -1662,7 +1635,7 @@ public class PlayFabClientAPI {
     public static PlayFabResult<GetCharacterDataResult> GetCharacterReadOnlyData(final GetCharacterDataRequest request) {
         FutureTask<PlayFabResult<GetCharacterDataResult>> task = new FutureTask(new Callable<PlayFabResult<GetCharacterDataResult>>() {
             public PlayFabResult<GetCharacterDataResult> call() throws Exception {
-                return privateGetCharacterReadOnlyDataAsync(request);
+                return privateGetCharacterReadOnlyDataAsync(null, request);
             }
         });
         try {
@@ -1677,10 +1650,11 @@ public class PlayFabClientAPI {
 
     /** Retrieves the title-specific custom data for the character which can only be read by the client */
     @SuppressWarnings("unchecked")
-    private static PlayFabResult<GetCharacterDataResult> privateGetCharacterReadOnlyDataAsync(final GetCharacterDataRequest request) throws Exception {
-        if (PlayFabSettings.ClientSessionTicket == null) throw new Exception ("Must be logged in to call this method");
+    static PlayFabResult<GetCharacterDataResult> privateGetCharacterReadOnlyDataAsync(final PlayFabInstanceAPI instance, final GetCharacterDataRequest request) throws Exception {
+        final PlayFabApiContext context = PlayFabInstanceAPI.contextOf(instance);
+        if (context.getClientSessionTicket() == null) throw new Exception ("Must be logged in to call this method");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Client/GetCharacterReadOnlyData"), request, "X-Authorization", PlayFabSettings.ClientSessionTicket);
+        FutureTask<Object> task = PlayFabHTTP.doPost(context.getURL("/Client/GetCharacterReadOnlyData"), request, "X-Authorization", context.getClientSessionTicket(), GetCharacterDataResult.class);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -1691,9 +1665,7 @@ public class PlayFabClientAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
-
-        PlayFabJsonSuccess<GetCharacterDataResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<GetCharacterDataResult>>(){}.getType());
+        PlayFabJsonSuccess<GetCharacterDataResult> resultData = (PlayFabJsonSuccess<GetCharacterDataResult>) httpResult;
         GetCharacterDataResult result = resultData.data;
 
         PlayFabResult<GetCharacterDataResult> pfResult = new PlayFabResult<GetCharacterDataResult>();
@@ -1710,7 +1682,7 @@ public class PlayFabClientAPI {
     public static FutureTask<PlayFabResult<GetCharacterStatisticsResult>> GetCharacterStatisticsAsync(final GetCharacterStatisticsRequest request) {
         return new FutureTask(new Callable<PlayFabResult<GetCharacterStatisticsResult>>() {
             public PlayFabResult<GetCharacterStatisticsResult> call() throws Exception {
-                return privateGetCharacterStatisticsAsync(request);
+                return privateGetCharacterStatisticsAsync(null, request);
             }
         });
     }
@@ -1724,7 +1696,7 @@ public class PlayFabClientAPI {
     public static PlayFabResult<GetCharacterStatisticsResult> GetCharacterStatistics(final GetCharacterStatisticsRequest request) {
         FutureTask<PlayFabResult<GetCharacterStatisticsResult>> task = new FutureTask(new Callable<PlayFabResult<GetCharacterStatisticsResult>>() {
             public PlayFabResult<GetCharacterStatisticsResult> call() throws Exception {
-                return privateGetCharacterStatisticsAsync(request);
+                return privateGetCharacterStatisticsAsync(null, request);
             }
         });
         try {
@@ -1739,10 +1711,11 @@ public class PlayFabClientAPI {
 
     /** Retrieves the details of all title-specific statistics for the user */
     @SuppressWarnings("unchecked")
-    private static PlayFabResult<GetCharacterStatisticsResult> privateGetCharacterStatisticsAsync(final GetCharacterStatisticsRequest request) throws Exception {
-        if (PlayFabSettings.ClientSessionTicket == null) throw new Exception ("Must be logged in to call this method");
+    static PlayFabResult<GetCharacterStatisticsResult> privateGetCharacterStatisticsAsync(final PlayFabInstanceAPI instance, final GetCharacterStatisticsRequest request) throws Exception {
+        final PlayFabApiContext context = PlayFabInstanceAPI.contextOf(instance);
+        if (context.getClientSessionTicket() == null) throw new Exception ("Must be logged in to call this method");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Client/GetCharacterStatistics"), request, "X-Authorization", PlayFabSettings.ClientSessionTicket);
+        FutureTask<Object> task = PlayFabHTTP.doPost(context.getURL("/Client/GetCharacterStatistics"), request, "X-Authorization", context.getClientSessionTicket(), GetCharacterStatisticsResult.class);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -1753,9 +1726,7 @@ public class PlayFabClientAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
-
-        PlayFabJsonSuccess<GetCharacterStatisticsResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<GetCharacterStatisticsResult>>(){}.getType());
+        PlayFabJsonSuccess<GetCharacterStatisticsResult> resultData = (PlayFabJsonSuccess<GetCharacterStatisticsResult>) httpResult;
         GetCharacterStatisticsResult result = resultData.data;
 
         PlayFabResult<GetCharacterStatisticsResult> pfResult = new PlayFabResult<GetCharacterStatisticsResult>();
@@ -1777,7 +1748,7 @@ public class PlayFabClientAPI {
     public static FutureTask<PlayFabResult<GetContentDownloadUrlResult>> GetContentDownloadUrlAsync(final GetContentDownloadUrlRequest request) {
         return new FutureTask(new Callable<PlayFabResult<GetContentDownloadUrlResult>>() {
             public PlayFabResult<GetContentDownloadUrlResult> call() throws Exception {
-                return privateGetContentDownloadUrlAsync(request);
+                return privateGetContentDownloadUrlAsync(null, request);
             }
         });
     }
@@ -1796,7 +1767,7 @@ public class PlayFabClientAPI {
     public static PlayFabResult<GetContentDownloadUrlResult> GetContentDownloadUrl(final GetContentDownloadUrlRequest request) {
         FutureTask<PlayFabResult<GetContentDownloadUrlResult>> task = new FutureTask(new Callable<PlayFabResult<GetContentDownloadUrlResult>>() {
             public PlayFabResult<GetContentDownloadUrlResult> call() throws Exception {
-                return privateGetContentDownloadUrlAsync(request);
+                return privateGetContentDownloadUrlAsync(null, request);
             }
         });
         try {
@@ -1818,10 +1789,11 @@ public class PlayFabClientAPI {
      * please be aware that the Content service is specifically PlayFab's CDN offering, for which standard CDN rates apply.
      */
     @SuppressWarnings("unchecked")
-    private static PlayFabResult<GetContentDownloadUrlResult> privateGetContentDownloadUrlAsync(final GetContentDownloadUrlRequest request) throws Exception {
-        if (PlayFabSettings.ClientSessionTicket == null) throw new Exception ("Must be logged in to call this method");
+    static PlayFabResult<GetContentDownloadUrlResult> privateGetContentDownloadUrlAsync(final PlayFabInstanceAPI instance, final GetContentDownloadUrlRequest request) throws Exception {
+        final PlayFabApiContext context = PlayFabInstanceAPI.contextOf(instance);
+        if (context.getClientSessionTicket() == null) throw new Exception ("Must be logged in to call this method");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Client/GetContentDownloadUrl"), request, "X-Authorization", PlayFabSettings.ClientSessionTicket);
+        FutureTask<Object> task = PlayFabHTTP.doPost(context.getURL("/Client/GetContentDownloadUrl"), request, "X-Authorization", context.getClientSessionTicket(), GetContentDownloadUrlResult.class);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -1832,9 +1804,7 @@ public class PlayFabClientAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
-
-        PlayFabJsonSuccess<GetContentDownloadUrlResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<GetContentDownloadUrlResult>>(){}.getType());
+        PlayFabJsonSuccess<GetContentDownloadUrlResult> resultData = (PlayFabJsonSuccess<GetContentDownloadUrlResult>) httpResult;
         GetContentDownloadUrlResult result = resultData.data;
 
         PlayFabResult<GetContentDownloadUrlResult> pfResult = new PlayFabResult<GetContentDownloadUrlResult>();
@@ -1851,7 +1821,7 @@ public class PlayFabClientAPI {
     public static FutureTask<PlayFabResult<CurrentGamesResult>> GetCurrentGamesAsync(final CurrentGamesRequest request) {
         return new FutureTask(new Callable<PlayFabResult<CurrentGamesResult>>() {
             public PlayFabResult<CurrentGamesResult> call() throws Exception {
-                return privateGetCurrentGamesAsync(request);
+                return privateGetCurrentGamesAsync(null, request);
             }
         });
     }
@@ -1865,7 +1835,7 @@ public class PlayFabClientAPI {
     public static PlayFabResult<CurrentGamesResult> GetCurrentGames(final CurrentGamesRequest request) {
         FutureTask<PlayFabResult<CurrentGamesResult>> task = new FutureTask(new Callable<PlayFabResult<CurrentGamesResult>>() {
             public PlayFabResult<CurrentGamesResult> call() throws Exception {
-                return privateGetCurrentGamesAsync(request);
+                return privateGetCurrentGamesAsync(null, request);
             }
         });
         try {
@@ -1880,10 +1850,11 @@ public class PlayFabClientAPI {
 
     /** Get details about all current running game servers matching the given parameters. */
     @SuppressWarnings("unchecked")
-    private static PlayFabResult<CurrentGamesResult> privateGetCurrentGamesAsync(final CurrentGamesRequest request) throws Exception {
-        if (PlayFabSettings.ClientSessionTicket == null) throw new Exception ("Must be logged in to call this method");
+    static PlayFabResult<CurrentGamesResult> privateGetCurrentGamesAsync(final PlayFabInstanceAPI instance, final CurrentGamesRequest request) throws Exception {
+        final PlayFabApiContext context = PlayFabInstanceAPI.contextOf(instance);
+        if (context.getClientSessionTicket() == null) throw new Exception ("Must be logged in to call this method");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Client/GetCurrentGames"), request, "X-Authorization", PlayFabSettings.ClientSessionTicket);
+        FutureTask<Object> task = PlayFabHTTP.doPost(context.getURL("/Client/GetCurrentGames"), request, "X-Authorization", context.getClientSessionTicket(), CurrentGamesResult.class);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -1894,9 +1865,7 @@ public class PlayFabClientAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
-
-        PlayFabJsonSuccess<CurrentGamesResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<CurrentGamesResult>>(){}.getType());
+        PlayFabJsonSuccess<CurrentGamesResult> resultData = (PlayFabJsonSuccess<CurrentGamesResult>) httpResult;
         CurrentGamesResult result = resultData.data;
 
         PlayFabResult<CurrentGamesResult> pfResult = new PlayFabResult<CurrentGamesResult>();
@@ -1914,7 +1883,7 @@ public class PlayFabClientAPI {
     public static FutureTask<PlayFabResult<GetLeaderboardResult>> GetFriendLeaderboardAsync(final GetFriendLeaderboardRequest request) {
         return new FutureTask(new Callable<PlayFabResult<GetLeaderboardResult>>() {
             public PlayFabResult<GetLeaderboardResult> call() throws Exception {
-                return privateGetFriendLeaderboardAsync(request);
+                return privateGetFriendLeaderboardAsync(null, request);
             }
         });
     }
@@ -1929,7 +1898,7 @@ public class PlayFabClientAPI {
     public static PlayFabResult<GetLeaderboardResult> GetFriendLeaderboard(final GetFriendLeaderboardRequest request) {
         FutureTask<PlayFabResult<GetLeaderboardResult>> task = new FutureTask(new Callable<PlayFabResult<GetLeaderboardResult>>() {
             public PlayFabResult<GetLeaderboardResult> call() throws Exception {
-                return privateGetFriendLeaderboardAsync(request);
+                return privateGetFriendLeaderboardAsync(null, request);
             }
         });
         try {
@@ -1947,10 +1916,11 @@ public class PlayFabClientAPI {
      * the leaderboard
      */
     @SuppressWarnings("unchecked")
-    private static PlayFabResult<GetLeaderboardResult> privateGetFriendLeaderboardAsync(final GetFriendLeaderboardRequest request) throws Exception {
-        if (PlayFabSettings.ClientSessionTicket == null) throw new Exception ("Must be logged in to call this method");
+    static PlayFabResult<GetLeaderboardResult> privateGetFriendLeaderboardAsync(final PlayFabInstanceAPI instance, final GetFriendLeaderboardRequest request) throws Exception {
+        final PlayFabApiContext context = PlayFabInstanceAPI.contextOf(instance);
+        if (context.getClientSessionTicket() == null) throw new Exception ("Must be logged in to call this method");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Client/GetFriendLeaderboard"), request, "X-Authorization", PlayFabSettings.ClientSessionTicket);
+        FutureTask<Object> task = PlayFabHTTP.doPost(context.getURL("/Client/GetFriendLeaderboard"), request, "X-Authorization", context.getClientSessionTicket(), GetLeaderboardResult.class);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -1961,9 +1931,7 @@ public class PlayFabClientAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
-
-        PlayFabJsonSuccess<GetLeaderboardResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<GetLeaderboardResult>>(){}.getType());
+        PlayFabJsonSuccess<GetLeaderboardResult> resultData = (PlayFabJsonSuccess<GetLeaderboardResult>) httpResult;
         GetLeaderboardResult result = resultData.data;
 
         PlayFabResult<GetLeaderboardResult> pfResult = new PlayFabResult<GetLeaderboardResult>();
@@ -1981,7 +1949,7 @@ public class PlayFabClientAPI {
     public static FutureTask<PlayFabResult<GetFriendLeaderboardAroundPlayerResult>> GetFriendLeaderboardAroundPlayerAsync(final GetFriendLeaderboardAroundPlayerRequest request) {
         return new FutureTask(new Callable<PlayFabResult<GetFriendLeaderboardAroundPlayerResult>>() {
             public PlayFabResult<GetFriendLeaderboardAroundPlayerResult> call() throws Exception {
-                return privateGetFriendLeaderboardAroundPlayerAsync(request);
+                return privateGetFriendLeaderboardAroundPlayerAsync(null, request);
             }
         });
     }
@@ -1996,7 +1964,7 @@ public class PlayFabClientAPI {
     public static PlayFabResult<GetFriendLeaderboardAroundPlayerResult> GetFriendLeaderboardAroundPlayer(final GetFriendLeaderboardAroundPlayerRequest request) {
         FutureTask<PlayFabResult<GetFriendLeaderboardAroundPlayerResult>> task = new FutureTask(new Callable<PlayFabResult<GetFriendLeaderboardAroundPlayerResult>>() {
             public PlayFabResult<GetFriendLeaderboardAroundPlayerResult> call() throws Exception {
-                return privateGetFriendLeaderboardAroundPlayerAsync(request);
+                return privateGetFriendLeaderboardAroundPlayerAsync(null, request);
             }
         });
         try {
@@ -2014,10 +1982,11 @@ public class PlayFabClientAPI {
      * user. If PlayFabId is empty or null will return currently logged in user.
      */
     @SuppressWarnings("unchecked")
-    private static PlayFabResult<GetFriendLeaderboardAroundPlayerResult> privateGetFriendLeaderboardAroundPlayerAsync(final GetFriendLeaderboardAroundPlayerRequest request) throws Exception {
-        if (PlayFabSettings.ClientSessionTicket == null) throw new Exception ("Must be logged in to call this method");
+    static PlayFabResult<GetFriendLeaderboardAroundPlayerResult> privateGetFriendLeaderboardAroundPlayerAsync(final PlayFabInstanceAPI instance, final GetFriendLeaderboardAroundPlayerRequest request) throws Exception {
+        final PlayFabApiContext context = PlayFabInstanceAPI.contextOf(instance);
+        if (context.getClientSessionTicket() == null) throw new Exception ("Must be logged in to call this method");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Client/GetFriendLeaderboardAroundPlayer"), request, "X-Authorization", PlayFabSettings.ClientSessionTicket);
+        FutureTask<Object> task = PlayFabHTTP.doPost(context.getURL("/Client/GetFriendLeaderboardAroundPlayer"), request, "X-Authorization", context.getClientSessionTicket(), GetFriendLeaderboardAroundPlayerResult.class);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -2028,9 +1997,7 @@ public class PlayFabClientAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
-
-        PlayFabJsonSuccess<GetFriendLeaderboardAroundPlayerResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<GetFriendLeaderboardAroundPlayerResult>>(){}.getType());
+        PlayFabJsonSuccess<GetFriendLeaderboardAroundPlayerResult> resultData = (PlayFabJsonSuccess<GetFriendLeaderboardAroundPlayerResult>) httpResult;
         GetFriendLeaderboardAroundPlayerResult result = resultData.data;
 
         PlayFabResult<GetFriendLeaderboardAroundPlayerResult> pfResult = new PlayFabResult<GetFriendLeaderboardAroundPlayerResult>();
@@ -2048,7 +2015,7 @@ public class PlayFabClientAPI {
     public static FutureTask<PlayFabResult<GetFriendsListResult>> GetFriendsListAsync(final GetFriendsListRequest request) {
         return new FutureTask(new Callable<PlayFabResult<GetFriendsListResult>>() {
             public PlayFabResult<GetFriendsListResult> call() throws Exception {
-                return privateGetFriendsListAsync(request);
+                return privateGetFriendsListAsync(null, request);
             }
         });
     }
@@ -2063,7 +2030,7 @@ public class PlayFabClientAPI {
     public static PlayFabResult<GetFriendsListResult> GetFriendsList(final GetFriendsListRequest request) {
         FutureTask<PlayFabResult<GetFriendsListResult>> task = new FutureTask(new Callable<PlayFabResult<GetFriendsListResult>>() {
             public PlayFabResult<GetFriendsListResult> call() throws Exception {
-                return privateGetFriendsListAsync(request);
+                return privateGetFriendsListAsync(null, request);
             }
         });
         try {
@@ -2081,10 +2048,11 @@ public class PlayFabClientAPI {
      * linked accounts (Facebook, Steam) are also included. You may optionally exclude some linked services' friends.
      */
     @SuppressWarnings("unchecked")
-    private static PlayFabResult<GetFriendsListResult> privateGetFriendsListAsync(final GetFriendsListRequest request) throws Exception {
-        if (PlayFabSettings.ClientSessionTicket == null) throw new Exception ("Must be logged in to call this method");
+    static PlayFabResult<GetFriendsListResult> privateGetFriendsListAsync(final PlayFabInstanceAPI instance, final GetFriendsListRequest request) throws Exception {
+        final PlayFabApiContext context = PlayFabInstanceAPI.contextOf(instance);
+        if (context.getClientSessionTicket() == null) throw new Exception ("Must be logged in to call this method");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Client/GetFriendsList"), request, "X-Authorization", PlayFabSettings.ClientSessionTicket);
+        FutureTask<Object> task = PlayFabHTTP.doPost(context.getURL("/Client/GetFriendsList"), request, "X-Authorization", context.getClientSessionTicket(), GetFriendsListResult.class);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -2095,9 +2063,7 @@ public class PlayFabClientAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
-
-        PlayFabJsonSuccess<GetFriendsListResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<GetFriendsListResult>>(){}.getType());
+        PlayFabJsonSuccess<GetFriendsListResult> resultData = (PlayFabJsonSuccess<GetFriendsListResult>) httpResult;
         GetFriendsListResult result = resultData.data;
 
         PlayFabResult<GetFriendsListResult> pfResult = new PlayFabResult<GetFriendsListResult>();
@@ -2114,7 +2080,7 @@ public class PlayFabClientAPI {
     public static FutureTask<PlayFabResult<GameServerRegionsResult>> GetGameServerRegionsAsync(final GameServerRegionsRequest request) {
         return new FutureTask(new Callable<PlayFabResult<GameServerRegionsResult>>() {
             public PlayFabResult<GameServerRegionsResult> call() throws Exception {
-                return privateGetGameServerRegionsAsync(request);
+                return privateGetGameServerRegionsAsync(null, request);
             }
         });
     }
@@ -2128,7 +2094,7 @@ public class PlayFabClientAPI {
     public static PlayFabResult<GameServerRegionsResult> GetGameServerRegions(final GameServerRegionsRequest request) {
         FutureTask<PlayFabResult<GameServerRegionsResult>> task = new FutureTask(new Callable<PlayFabResult<GameServerRegionsResult>>() {
             public PlayFabResult<GameServerRegionsResult> call() throws Exception {
-                return privateGetGameServerRegionsAsync(request);
+                return privateGetGameServerRegionsAsync(null, request);
             }
         });
         try {
@@ -2143,10 +2109,11 @@ public class PlayFabClientAPI {
 
     /** Get details about the regions hosting game servers matching the given parameters. */
     @SuppressWarnings("unchecked")
-    private static PlayFabResult<GameServerRegionsResult> privateGetGameServerRegionsAsync(final GameServerRegionsRequest request) throws Exception {
-        if (PlayFabSettings.ClientSessionTicket == null) throw new Exception ("Must be logged in to call this method");
+    static PlayFabResult<GameServerRegionsResult> privateGetGameServerRegionsAsync(final PlayFabInstanceAPI instance, final GameServerRegionsRequest request) throws Exception {
+        final PlayFabApiContext context = PlayFabInstanceAPI.contextOf(instance);
+        if (context.getClientSessionTicket() == null) throw new Exception ("Must be logged in to call this method");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Client/GetGameServerRegions"), request, "X-Authorization", PlayFabSettings.ClientSessionTicket);
+        FutureTask<Object> task = PlayFabHTTP.doPost(context.getURL("/Client/GetGameServerRegions"), request, "X-Authorization", context.getClientSessionTicket(), GameServerRegionsResult.class);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -2157,9 +2124,7 @@ public class PlayFabClientAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
-
-        PlayFabJsonSuccess<GameServerRegionsResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<GameServerRegionsResult>>(){}.getType());
+        PlayFabJsonSuccess<GameServerRegionsResult> resultData = (PlayFabJsonSuccess<GameServerRegionsResult>) httpResult;
         GameServerRegionsResult result = resultData.data;
 
         PlayFabResult<GameServerRegionsResult> pfResult = new PlayFabResult<GameServerRegionsResult>();
@@ -2176,7 +2141,7 @@ public class PlayFabClientAPI {
     public static FutureTask<PlayFabResult<GetLeaderboardResult>> GetLeaderboardAsync(final GetLeaderboardRequest request) {
         return new FutureTask(new Callable<PlayFabResult<GetLeaderboardResult>>() {
             public PlayFabResult<GetLeaderboardResult> call() throws Exception {
-                return privateGetLeaderboardAsync(request);
+                return privateGetLeaderboardAsync(null, request);
             }
         });
     }
@@ -2190,7 +2155,7 @@ public class PlayFabClientAPI {
     public static PlayFabResult<GetLeaderboardResult> GetLeaderboard(final GetLeaderboardRequest request) {
         FutureTask<PlayFabResult<GetLeaderboardResult>> task = new FutureTask(new Callable<PlayFabResult<GetLeaderboardResult>>() {
             public PlayFabResult<GetLeaderboardResult> call() throws Exception {
-                return privateGetLeaderboardAsync(request);
+                return privateGetLeaderboardAsync(null, request);
             }
         });
         try {
@@ -2205,10 +2170,11 @@ public class PlayFabClientAPI {
 
     /** Retrieves a list of ranked users for the given statistic, starting from the indicated point in the leaderboard */
     @SuppressWarnings("unchecked")
-    private static PlayFabResult<GetLeaderboardResult> privateGetLeaderboardAsync(final GetLeaderboardRequest request) throws Exception {
-        if (PlayFabSettings.ClientSessionTicket == null) throw new Exception ("Must be logged in to call this method");
+    static PlayFabResult<GetLeaderboardResult> privateGetLeaderboardAsync(final PlayFabInstanceAPI instance, final GetLeaderboardRequest request) throws Exception {
+        final PlayFabApiContext context = PlayFabInstanceAPI.contextOf(instance);
+        if (context.getClientSessionTicket() == null) throw new Exception ("Must be logged in to call this method");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Client/GetLeaderboard"), request, "X-Authorization", PlayFabSettings.ClientSessionTicket);
+        FutureTask<Object> task = PlayFabHTTP.doPost(context.getURL("/Client/GetLeaderboard"), request, "X-Authorization", context.getClientSessionTicket(), GetLeaderboardResult.class);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -2219,9 +2185,7 @@ public class PlayFabClientAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
-
-        PlayFabJsonSuccess<GetLeaderboardResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<GetLeaderboardResult>>(){}.getType());
+        PlayFabJsonSuccess<GetLeaderboardResult> resultData = (PlayFabJsonSuccess<GetLeaderboardResult>) httpResult;
         GetLeaderboardResult result = resultData.data;
 
         PlayFabResult<GetLeaderboardResult> pfResult = new PlayFabResult<GetLeaderboardResult>();
@@ -2238,7 +2202,7 @@ public class PlayFabClientAPI {
     public static FutureTask<PlayFabResult<GetLeaderboardAroundCharacterResult>> GetLeaderboardAroundCharacterAsync(final GetLeaderboardAroundCharacterRequest request) {
         return new FutureTask(new Callable<PlayFabResult<GetLeaderboardAroundCharacterResult>>() {
             public PlayFabResult<GetLeaderboardAroundCharacterResult> call() throws Exception {
-                return privateGetLeaderboardAroundCharacterAsync(request);
+                return privateGetLeaderboardAroundCharacterAsync(null, request);
             }
         });
     }
@@ -2252,7 +2216,7 @@ public class PlayFabClientAPI {
     public static PlayFabResult<GetLeaderboardAroundCharacterResult> GetLeaderboardAroundCharacter(final GetLeaderboardAroundCharacterRequest request) {
         FutureTask<PlayFabResult<GetLeaderboardAroundCharacterResult>> task = new FutureTask(new Callable<PlayFabResult<GetLeaderboardAroundCharacterResult>>() {
             public PlayFabResult<GetLeaderboardAroundCharacterResult> call() throws Exception {
-                return privateGetLeaderboardAroundCharacterAsync(request);
+                return privateGetLeaderboardAroundCharacterAsync(null, request);
             }
         });
         try {
@@ -2267,10 +2231,11 @@ public class PlayFabClientAPI {
 
     /** Retrieves a list of ranked characters for the given statistic, centered on the requested Character ID */
     @SuppressWarnings("unchecked")
-    private static PlayFabResult<GetLeaderboardAroundCharacterResult> privateGetLeaderboardAroundCharacterAsync(final GetLeaderboardAroundCharacterRequest request) throws Exception {
-        if (PlayFabSettings.ClientSessionTicket == null) throw new Exception ("Must be logged in to call this method");
+    static PlayFabResult<GetLeaderboardAroundCharacterResult> privateGetLeaderboardAroundCharacterAsync(final PlayFabInstanceAPI instance, final GetLeaderboardAroundCharacterRequest request) throws Exception {
+        final PlayFabApiContext context = PlayFabInstanceAPI.contextOf(instance);
+        if (context.getClientSessionTicket() == null) throw new Exception ("Must be logged in to call this method");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Client/GetLeaderboardAroundCharacter"), request, "X-Authorization", PlayFabSettings.ClientSessionTicket);
+        FutureTask<Object> task = PlayFabHTTP.doPost(context.getURL("/Client/GetLeaderboardAroundCharacter"), request, "X-Authorization", context.getClientSessionTicket(), GetLeaderboardAroundCharacterResult.class);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -2281,9 +2246,7 @@ public class PlayFabClientAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
-
-        PlayFabJsonSuccess<GetLeaderboardAroundCharacterResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<GetLeaderboardAroundCharacterResult>>(){}.getType());
+        PlayFabJsonSuccess<GetLeaderboardAroundCharacterResult> resultData = (PlayFabJsonSuccess<GetLeaderboardAroundCharacterResult>) httpResult;
         GetLeaderboardAroundCharacterResult result = resultData.data;
 
         PlayFabResult<GetLeaderboardAroundCharacterResult> pfResult = new PlayFabResult<GetLeaderboardAroundCharacterResult>();
@@ -2301,7 +2264,7 @@ public class PlayFabClientAPI {
     public static FutureTask<PlayFabResult<GetLeaderboardAroundPlayerResult>> GetLeaderboardAroundPlayerAsync(final GetLeaderboardAroundPlayerRequest request) {
         return new FutureTask(new Callable<PlayFabResult<GetLeaderboardAroundPlayerResult>>() {
             public PlayFabResult<GetLeaderboardAroundPlayerResult> call() throws Exception {
-                return privateGetLeaderboardAroundPlayerAsync(request);
+                return privateGetLeaderboardAroundPlayerAsync(null, request);
             }
         });
     }
@@ -2316,7 +2279,7 @@ public class PlayFabClientAPI {
     public static PlayFabResult<GetLeaderboardAroundPlayerResult> GetLeaderboardAroundPlayer(final GetLeaderboardAroundPlayerRequest request) {
         FutureTask<PlayFabResult<GetLeaderboardAroundPlayerResult>> task = new FutureTask(new Callable<PlayFabResult<GetLeaderboardAroundPlayerResult>>() {
             public PlayFabResult<GetLeaderboardAroundPlayerResult> call() throws Exception {
-                return privateGetLeaderboardAroundPlayerAsync(request);
+                return privateGetLeaderboardAroundPlayerAsync(null, request);
             }
         });
         try {
@@ -2334,10 +2297,11 @@ public class PlayFabClientAPI {
      * null will return currently logged in user.
      */
     @SuppressWarnings("unchecked")
-    private static PlayFabResult<GetLeaderboardAroundPlayerResult> privateGetLeaderboardAroundPlayerAsync(final GetLeaderboardAroundPlayerRequest request) throws Exception {
-        if (PlayFabSettings.ClientSessionTicket == null) throw new Exception ("Must be logged in to call this method");
+    static PlayFabResult<GetLeaderboardAroundPlayerResult> privateGetLeaderboardAroundPlayerAsync(final PlayFabInstanceAPI instance, final GetLeaderboardAroundPlayerRequest request) throws Exception {
+        final PlayFabApiContext context = PlayFabInstanceAPI.contextOf(instance);
+        if (context.getClientSessionTicket() == null) throw new Exception ("Must be logged in to call this method");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Client/GetLeaderboardAroundPlayer"), request, "X-Authorization", PlayFabSettings.ClientSessionTicket);
+        FutureTask<Object> task = PlayFabHTTP.doPost(context.getURL("/Client/GetLeaderboardAroundPlayer"), request, "X-Authorization", context.getClientSessionTicket(), GetLeaderboardAroundPlayerResult.class);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -2348,9 +2312,7 @@ public class PlayFabClientAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
-
-        PlayFabJsonSuccess<GetLeaderboardAroundPlayerResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<GetLeaderboardAroundPlayerResult>>(){}.getType());
+        PlayFabJsonSuccess<GetLeaderboardAroundPlayerResult> resultData = (PlayFabJsonSuccess<GetLeaderboardAroundPlayerResult>) httpResult;
         GetLeaderboardAroundPlayerResult result = resultData.data;
 
         PlayFabResult<GetLeaderboardAroundPlayerResult> pfResult = new PlayFabResult<GetLeaderboardAroundPlayerResult>();
@@ -2367,7 +2329,7 @@ public class PlayFabClientAPI {
     public static FutureTask<PlayFabResult<GetLeaderboardForUsersCharactersResult>> GetLeaderboardForUserCharactersAsync(final GetLeaderboardForUsersCharactersRequest request) {
         return new FutureTask(new Callable<PlayFabResult<GetLeaderboardForUsersCharactersResult>>() {
             public PlayFabResult<GetLeaderboardForUsersCharactersResult> call() throws Exception {
-                return privateGetLeaderboardForUserCharactersAsync(request);
+                return privateGetLeaderboardForUserCharactersAsync(null, request);
             }
         });
     }
@@ -2381,7 +2343,7 @@ public class PlayFabClientAPI {
     public static PlayFabResult<GetLeaderboardForUsersCharactersResult> GetLeaderboardForUserCharacters(final GetLeaderboardForUsersCharactersRequest request) {
         FutureTask<PlayFabResult<GetLeaderboardForUsersCharactersResult>> task = new FutureTask(new Callable<PlayFabResult<GetLeaderboardForUsersCharactersResult>>() {
             public PlayFabResult<GetLeaderboardForUsersCharactersResult> call() throws Exception {
-                return privateGetLeaderboardForUserCharactersAsync(request);
+                return privateGetLeaderboardForUserCharactersAsync(null, request);
             }
         });
         try {
@@ -2396,10 +2358,11 @@ public class PlayFabClientAPI {
 
     /** Retrieves a list of all of the user's characters for the given statistic. */
     @SuppressWarnings("unchecked")
-    private static PlayFabResult<GetLeaderboardForUsersCharactersResult> privateGetLeaderboardForUserCharactersAsync(final GetLeaderboardForUsersCharactersRequest request) throws Exception {
-        if (PlayFabSettings.ClientSessionTicket == null) throw new Exception ("Must be logged in to call this method");
+    static PlayFabResult<GetLeaderboardForUsersCharactersResult> privateGetLeaderboardForUserCharactersAsync(final PlayFabInstanceAPI instance, final GetLeaderboardForUsersCharactersRequest request) throws Exception {
+        final PlayFabApiContext context = PlayFabInstanceAPI.contextOf(instance);
+        if (context.getClientSessionTicket() == null) throw new Exception ("Must be logged in to call this method");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Client/GetLeaderboardForUserCharacters"), request, "X-Authorization", PlayFabSettings.ClientSessionTicket);
+        FutureTask<Object> task = PlayFabHTTP.doPost(context.getURL("/Client/GetLeaderboardForUserCharacters"), request, "X-Authorization", context.getClientSessionTicket(), GetLeaderboardForUsersCharactersResult.class);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -2410,9 +2373,7 @@ public class PlayFabClientAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
-
-        PlayFabJsonSuccess<GetLeaderboardForUsersCharactersResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<GetLeaderboardForUsersCharactersResult>>(){}.getType());
+        PlayFabJsonSuccess<GetLeaderboardForUsersCharactersResult> resultData = (PlayFabJsonSuccess<GetLeaderboardForUsersCharactersResult>) httpResult;
         GetLeaderboardForUsersCharactersResult result = resultData.data;
 
         PlayFabResult<GetLeaderboardForUsersCharactersResult> pfResult = new PlayFabResult<GetLeaderboardForUsersCharactersResult>();
@@ -2431,7 +2392,7 @@ public class PlayFabClientAPI {
     public static FutureTask<PlayFabResult<GetPaymentTokenResult>> GetPaymentTokenAsync(final GetPaymentTokenRequest request) {
         return new FutureTask(new Callable<PlayFabResult<GetPaymentTokenResult>>() {
             public PlayFabResult<GetPaymentTokenResult> call() throws Exception {
-                return privateGetPaymentTokenAsync(request);
+                return privateGetPaymentTokenAsync(null, request);
             }
         });
     }
@@ -2447,7 +2408,7 @@ public class PlayFabClientAPI {
     public static PlayFabResult<GetPaymentTokenResult> GetPaymentToken(final GetPaymentTokenRequest request) {
         FutureTask<PlayFabResult<GetPaymentTokenResult>> task = new FutureTask(new Callable<PlayFabResult<GetPaymentTokenResult>>() {
             public PlayFabResult<GetPaymentTokenResult> call() throws Exception {
-                return privateGetPaymentTokenAsync(request);
+                return privateGetPaymentTokenAsync(null, request);
             }
         });
         try {
@@ -2466,10 +2427,11 @@ public class PlayFabClientAPI {
      * create a cart. Poll GetPurchase using the returned OrderId once you've completed the payment.
      */
     @SuppressWarnings("unchecked")
-    private static PlayFabResult<GetPaymentTokenResult> privateGetPaymentTokenAsync(final GetPaymentTokenRequest request) throws Exception {
-        if (PlayFabSettings.ClientSessionTicket == null) throw new Exception ("Must be logged in to call this method");
+    static PlayFabResult<GetPaymentTokenResult> privateGetPaymentTokenAsync(final PlayFabInstanceAPI instance, final GetPaymentTokenRequest request) throws Exception {
+        final PlayFabApiContext context = PlayFabInstanceAPI.contextOf(instance);
+        if (context.getClientSessionTicket() == null) throw new Exception ("Must be logged in to call this method");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Client/GetPaymentToken"), request, "X-Authorization", PlayFabSettings.ClientSessionTicket);
+        FutureTask<Object> task = PlayFabHTTP.doPost(context.getURL("/Client/GetPaymentToken"), request, "X-Authorization", context.getClientSessionTicket(), GetPaymentTokenResult.class);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -2480,9 +2442,7 @@ public class PlayFabClientAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
-
-        PlayFabJsonSuccess<GetPaymentTokenResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<GetPaymentTokenResult>>(){}.getType());
+        PlayFabJsonSuccess<GetPaymentTokenResult> resultData = (PlayFabJsonSuccess<GetPaymentTokenResult>) httpResult;
         GetPaymentTokenResult result = resultData.data;
 
         PlayFabResult<GetPaymentTokenResult> pfResult = new PlayFabResult<GetPaymentTokenResult>();
@@ -2500,7 +2460,7 @@ public class PlayFabClientAPI {
     public static FutureTask<PlayFabResult<GetPhotonAuthenticationTokenResult>> GetPhotonAuthenticationTokenAsync(final GetPhotonAuthenticationTokenRequest request) {
         return new FutureTask(new Callable<PlayFabResult<GetPhotonAuthenticationTokenResult>>() {
             public PlayFabResult<GetPhotonAuthenticationTokenResult> call() throws Exception {
-                return privateGetPhotonAuthenticationTokenAsync(request);
+                return privateGetPhotonAuthenticationTokenAsync(null, request);
             }
         });
     }
@@ -2515,7 +2475,7 @@ public class PlayFabClientAPI {
     public static PlayFabResult<GetPhotonAuthenticationTokenResult> GetPhotonAuthenticationToken(final GetPhotonAuthenticationTokenRequest request) {
         FutureTask<PlayFabResult<GetPhotonAuthenticationTokenResult>> task = new FutureTask(new Callable<PlayFabResult<GetPhotonAuthenticationTokenResult>>() {
             public PlayFabResult<GetPhotonAuthenticationTokenResult> call() throws Exception {
-                return privateGetPhotonAuthenticationTokenAsync(request);
+                return privateGetPhotonAuthenticationTokenAsync(null, request);
             }
         });
         try {
@@ -2533,10 +2493,11 @@ public class PlayFabClientAPI {
      * https://docs.microsoft.com/gaming/playfab/features/multiplayer/photon/quickstart for more details.
      */
     @SuppressWarnings("unchecked")
-    private static PlayFabResult<GetPhotonAuthenticationTokenResult> privateGetPhotonAuthenticationTokenAsync(final GetPhotonAuthenticationTokenRequest request) throws Exception {
-        if (PlayFabSettings.ClientSessionTicket == null) throw new Exception ("Must be logged in to call this method");
+    static PlayFabResult<GetPhotonAuthenticationTokenResult> privateGetPhotonAuthenticationTokenAsync(final PlayFabInstanceAPI instance, final GetPhotonAuthenticationTokenRequest request) throws Exception {
+        final PlayFabApiContext context = PlayFabInstanceAPI.contextOf(instance);
+        if (context.getClientSessionTicket() == null) throw new Exception ("Must be logged in to call this method");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Client/GetPhotonAuthenticationToken"), request, "X-Authorization", PlayFabSettings.ClientSessionTicket);
+        FutureTask<Object> task = PlayFabHTTP.doPost(context.getURL("/Client/GetPhotonAuthenticationToken"), request, "X-Authorization", context.getClientSessionTicket(), GetPhotonAuthenticationTokenResult.class);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -2547,9 +2508,7 @@ public class PlayFabClientAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
-
-        PlayFabJsonSuccess<GetPhotonAuthenticationTokenResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<GetPhotonAuthenticationTokenResult>>(){}.getType());
+        PlayFabJsonSuccess<GetPhotonAuthenticationTokenResult> resultData = (PlayFabJsonSuccess<GetPhotonAuthenticationTokenResult>) httpResult;
         GetPhotonAuthenticationTokenResult result = resultData.data;
 
         PlayFabResult<GetPhotonAuthenticationTokenResult> pfResult = new PlayFabResult<GetPhotonAuthenticationTokenResult>();
@@ -2566,7 +2525,7 @@ public class PlayFabClientAPI {
     public static FutureTask<PlayFabResult<GetPlayerCombinedInfoResult>> GetPlayerCombinedInfoAsync(final GetPlayerCombinedInfoRequest request) {
         return new FutureTask(new Callable<PlayFabResult<GetPlayerCombinedInfoResult>>() {
             public PlayFabResult<GetPlayerCombinedInfoResult> call() throws Exception {
-                return privateGetPlayerCombinedInfoAsync(request);
+                return privateGetPlayerCombinedInfoAsync(null, request);
             }
         });
     }
@@ -2580,7 +2539,7 @@ public class PlayFabClientAPI {
     public static PlayFabResult<GetPlayerCombinedInfoResult> GetPlayerCombinedInfo(final GetPlayerCombinedInfoRequest request) {
         FutureTask<PlayFabResult<GetPlayerCombinedInfoResult>> task = new FutureTask(new Callable<PlayFabResult<GetPlayerCombinedInfoResult>>() {
             public PlayFabResult<GetPlayerCombinedInfoResult> call() throws Exception {
-                return privateGetPlayerCombinedInfoAsync(request);
+                return privateGetPlayerCombinedInfoAsync(null, request);
             }
         });
         try {
@@ -2595,10 +2554,11 @@ public class PlayFabClientAPI {
 
     /** Retrieves all of the user's different kinds of info. */
     @SuppressWarnings("unchecked")
-    private static PlayFabResult<GetPlayerCombinedInfoResult> privateGetPlayerCombinedInfoAsync(final GetPlayerCombinedInfoRequest request) throws Exception {
-        if (PlayFabSettings.ClientSessionTicket == null) throw new Exception ("Must be logged in to call this method");
+    static PlayFabResult<GetPlayerCombinedInfoResult> privateGetPlayerCombinedInfoAsync(final PlayFabInstanceAPI instance, final GetPlayerCombinedInfoRequest request) throws Exception {
+        final PlayFabApiContext context = PlayFabInstanceAPI.contextOf(instance);
+        if (context.getClientSessionTicket() == null) throw new Exception ("Must be logged in to call this method");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Client/GetPlayerCombinedInfo"), request, "X-Authorization", PlayFabSettings.ClientSessionTicket);
+        FutureTask<Object> task = PlayFabHTTP.doPost(context.getURL("/Client/GetPlayerCombinedInfo"), request, "X-Authorization", context.getClientSessionTicket(), GetPlayerCombinedInfoResult.class);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -2609,9 +2569,7 @@ public class PlayFabClientAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
-
-        PlayFabJsonSuccess<GetPlayerCombinedInfoResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<GetPlayerCombinedInfoResult>>(){}.getType());
+        PlayFabJsonSuccess<GetPlayerCombinedInfoResult> resultData = (PlayFabJsonSuccess<GetPlayerCombinedInfoResult>) httpResult;
         GetPlayerCombinedInfoResult result = resultData.data;
 
         PlayFabResult<GetPlayerCombinedInfoResult> pfResult = new PlayFabResult<GetPlayerCombinedInfoResult>();
@@ -2628,7 +2586,7 @@ public class PlayFabClientAPI {
     public static FutureTask<PlayFabResult<GetPlayerProfileResult>> GetPlayerProfileAsync(final GetPlayerProfileRequest request) {
         return new FutureTask(new Callable<PlayFabResult<GetPlayerProfileResult>>() {
             public PlayFabResult<GetPlayerProfileResult> call() throws Exception {
-                return privateGetPlayerProfileAsync(request);
+                return privateGetPlayerProfileAsync(null, request);
             }
         });
     }
@@ -2642,7 +2600,7 @@ public class PlayFabClientAPI {
     public static PlayFabResult<GetPlayerProfileResult> GetPlayerProfile(final GetPlayerProfileRequest request) {
         FutureTask<PlayFabResult<GetPlayerProfileResult>> task = new FutureTask(new Callable<PlayFabResult<GetPlayerProfileResult>>() {
             public PlayFabResult<GetPlayerProfileResult> call() throws Exception {
-                return privateGetPlayerProfileAsync(request);
+                return privateGetPlayerProfileAsync(null, request);
             }
         });
         try {
@@ -2657,10 +2615,11 @@ public class PlayFabClientAPI {
 
     /** Retrieves the player's profile */
     @SuppressWarnings("unchecked")
-    private static PlayFabResult<GetPlayerProfileResult> privateGetPlayerProfileAsync(final GetPlayerProfileRequest request) throws Exception {
-        if (PlayFabSettings.ClientSessionTicket == null) throw new Exception ("Must be logged in to call this method");
+    static PlayFabResult<GetPlayerProfileResult> privateGetPlayerProfileAsync(final PlayFabInstanceAPI instance, final GetPlayerProfileRequest request) throws Exception {
+        final PlayFabApiContext context = PlayFabInstanceAPI.contextOf(instance);
+        if (context.getClientSessionTicket() == null) throw new Exception ("Must be logged in to call this method");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Client/GetPlayerProfile"), request, "X-Authorization", PlayFabSettings.ClientSessionTicket);
+        FutureTask<Object> task = PlayFabHTTP.doPost(context.getURL("/Client/GetPlayerProfile"), request, "X-Authorization", context.getClientSessionTicket(), GetPlayerProfileResult.class);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -2671,9 +2630,7 @@ public class PlayFabClientAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
-
-        PlayFabJsonSuccess<GetPlayerProfileResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<GetPlayerProfileResult>>(){}.getType());
+        PlayFabJsonSuccess<GetPlayerProfileResult> resultData = (PlayFabJsonSuccess<GetPlayerProfileResult>) httpResult;
         GetPlayerProfileResult result = resultData.data;
 
         PlayFabResult<GetPlayerProfileResult> pfResult = new PlayFabResult<GetPlayerProfileResult>();
@@ -2690,7 +2647,7 @@ public class PlayFabClientAPI {
     public static FutureTask<PlayFabResult<GetPlayerSegmentsResult>> GetPlayerSegmentsAsync(final GetPlayerSegmentsRequest request) {
         return new FutureTask(new Callable<PlayFabResult<GetPlayerSegmentsResult>>() {
             public PlayFabResult<GetPlayerSegmentsResult> call() throws Exception {
-                return privateGetPlayerSegmentsAsync(request);
+                return privateGetPlayerSegmentsAsync(null, request);
             }
         });
     }
@@ -2704,7 +2661,7 @@ public class PlayFabClientAPI {
     public static PlayFabResult<GetPlayerSegmentsResult> GetPlayerSegments(final GetPlayerSegmentsRequest request) {
         FutureTask<PlayFabResult<GetPlayerSegmentsResult>> task = new FutureTask(new Callable<PlayFabResult<GetPlayerSegmentsResult>>() {
             public PlayFabResult<GetPlayerSegmentsResult> call() throws Exception {
-                return privateGetPlayerSegmentsAsync(request);
+                return privateGetPlayerSegmentsAsync(null, request);
             }
         });
         try {
@@ -2719,10 +2676,11 @@ public class PlayFabClientAPI {
 
     /** List all segments that a player currently belongs to at this moment in time. */
     @SuppressWarnings("unchecked")
-    private static PlayFabResult<GetPlayerSegmentsResult> privateGetPlayerSegmentsAsync(final GetPlayerSegmentsRequest request) throws Exception {
-        if (PlayFabSettings.ClientSessionTicket == null) throw new Exception ("Must be logged in to call this method");
+    static PlayFabResult<GetPlayerSegmentsResult> privateGetPlayerSegmentsAsync(final PlayFabInstanceAPI instance, final GetPlayerSegmentsRequest request) throws Exception {
+        final PlayFabApiContext context = PlayFabInstanceAPI.contextOf(instance);
+        if (context.getClientSessionTicket() == null) throw new Exception ("Must be logged in to call this method");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Client/GetPlayerSegments"), request, "X-Authorization", PlayFabSettings.ClientSessionTicket);
+        FutureTask<Object> task = PlayFabHTTP.doPost(context.getURL("/Client/GetPlayerSegments"), request, "X-Authorization", context.getClientSessionTicket(), GetPlayerSegmentsResult.class);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -2733,9 +2691,7 @@ public class PlayFabClientAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
-
-        PlayFabJsonSuccess<GetPlayerSegmentsResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<GetPlayerSegmentsResult>>(){}.getType());
+        PlayFabJsonSuccess<GetPlayerSegmentsResult> resultData = (PlayFabJsonSuccess<GetPlayerSegmentsResult>) httpResult;
         GetPlayerSegmentsResult result = resultData.data;
 
         PlayFabResult<GetPlayerSegmentsResult> pfResult = new PlayFabResult<GetPlayerSegmentsResult>();
@@ -2753,7 +2709,7 @@ public class PlayFabClientAPI {
     public static FutureTask<PlayFabResult<GetPlayerStatisticsResult>> GetPlayerStatisticsAsync(final GetPlayerStatisticsRequest request) {
         return new FutureTask(new Callable<PlayFabResult<GetPlayerStatisticsResult>>() {
             public PlayFabResult<GetPlayerStatisticsResult> call() throws Exception {
-                return privateGetPlayerStatisticsAsync(request);
+                return privateGetPlayerStatisticsAsync(null, request);
             }
         });
     }
@@ -2768,7 +2724,7 @@ public class PlayFabClientAPI {
     public static PlayFabResult<GetPlayerStatisticsResult> GetPlayerStatistics(final GetPlayerStatisticsRequest request) {
         FutureTask<PlayFabResult<GetPlayerStatisticsResult>> task = new FutureTask(new Callable<PlayFabResult<GetPlayerStatisticsResult>>() {
             public PlayFabResult<GetPlayerStatisticsResult> call() throws Exception {
-                return privateGetPlayerStatisticsAsync(request);
+                return privateGetPlayerStatisticsAsync(null, request);
             }
         });
         try {
@@ -2786,10 +2742,11 @@ public class PlayFabClientAPI {
      * player.
      */
     @SuppressWarnings("unchecked")
-    private static PlayFabResult<GetPlayerStatisticsResult> privateGetPlayerStatisticsAsync(final GetPlayerStatisticsRequest request) throws Exception {
-        if (PlayFabSettings.ClientSessionTicket == null) throw new Exception ("Must be logged in to call this method");
+    static PlayFabResult<GetPlayerStatisticsResult> privateGetPlayerStatisticsAsync(final PlayFabInstanceAPI instance, final GetPlayerStatisticsRequest request) throws Exception {
+        final PlayFabApiContext context = PlayFabInstanceAPI.contextOf(instance);
+        if (context.getClientSessionTicket() == null) throw new Exception ("Must be logged in to call this method");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Client/GetPlayerStatistics"), request, "X-Authorization", PlayFabSettings.ClientSessionTicket);
+        FutureTask<Object> task = PlayFabHTTP.doPost(context.getURL("/Client/GetPlayerStatistics"), request, "X-Authorization", context.getClientSessionTicket(), GetPlayerStatisticsResult.class);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -2800,9 +2757,7 @@ public class PlayFabClientAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
-
-        PlayFabJsonSuccess<GetPlayerStatisticsResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<GetPlayerStatisticsResult>>(){}.getType());
+        PlayFabJsonSuccess<GetPlayerStatisticsResult> resultData = (PlayFabJsonSuccess<GetPlayerStatisticsResult>) httpResult;
         GetPlayerStatisticsResult result = resultData.data;
 
         PlayFabResult<GetPlayerStatisticsResult> pfResult = new PlayFabResult<GetPlayerStatisticsResult>();
@@ -2819,7 +2774,7 @@ public class PlayFabClientAPI {
     public static FutureTask<PlayFabResult<GetPlayerStatisticVersionsResult>> GetPlayerStatisticVersionsAsync(final GetPlayerStatisticVersionsRequest request) {
         return new FutureTask(new Callable<PlayFabResult<GetPlayerStatisticVersionsResult>>() {
             public PlayFabResult<GetPlayerStatisticVersionsResult> call() throws Exception {
-                return privateGetPlayerStatisticVersionsAsync(request);
+                return privateGetPlayerStatisticVersionsAsync(null, request);
             }
         });
     }
@@ -2833,7 +2788,7 @@ public class PlayFabClientAPI {
     public static PlayFabResult<GetPlayerStatisticVersionsResult> GetPlayerStatisticVersions(final GetPlayerStatisticVersionsRequest request) {
         FutureTask<PlayFabResult<GetPlayerStatisticVersionsResult>> task = new FutureTask(new Callable<PlayFabResult<GetPlayerStatisticVersionsResult>>() {
             public PlayFabResult<GetPlayerStatisticVersionsResult> call() throws Exception {
-                return privateGetPlayerStatisticVersionsAsync(request);
+                return privateGetPlayerStatisticVersionsAsync(null, request);
             }
         });
         try {
@@ -2848,10 +2803,11 @@ public class PlayFabClientAPI {
 
     /** Retrieves the information on the available versions of the specified statistic. */
     @SuppressWarnings("unchecked")
-    private static PlayFabResult<GetPlayerStatisticVersionsResult> privateGetPlayerStatisticVersionsAsync(final GetPlayerStatisticVersionsRequest request) throws Exception {
-        if (PlayFabSettings.ClientSessionTicket == null) throw new Exception ("Must be logged in to call this method");
+    static PlayFabResult<GetPlayerStatisticVersionsResult> privateGetPlayerStatisticVersionsAsync(final PlayFabInstanceAPI instance, final GetPlayerStatisticVersionsRequest request) throws Exception {
+        final PlayFabApiContext context = PlayFabInstanceAPI.contextOf(instance);
+        if (context.getClientSessionTicket() == null) throw new Exception ("Must be logged in to call this method");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Client/GetPlayerStatisticVersions"), request, "X-Authorization", PlayFabSettings.ClientSessionTicket);
+        FutureTask<Object> task = PlayFabHTTP.doPost(context.getURL("/Client/GetPlayerStatisticVersions"), request, "X-Authorization", context.getClientSessionTicket(), GetPlayerStatisticVersionsResult.class);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -2862,9 +2818,7 @@ public class PlayFabClientAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
-
-        PlayFabJsonSuccess<GetPlayerStatisticVersionsResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<GetPlayerStatisticVersionsResult>>(){}.getType());
+        PlayFabJsonSuccess<GetPlayerStatisticVersionsResult> resultData = (PlayFabJsonSuccess<GetPlayerStatisticVersionsResult>) httpResult;
         GetPlayerStatisticVersionsResult result = resultData.data;
 
         PlayFabResult<GetPlayerStatisticVersionsResult> pfResult = new PlayFabResult<GetPlayerStatisticVersionsResult>();
@@ -2881,7 +2835,7 @@ public class PlayFabClientAPI {
     public static FutureTask<PlayFabResult<GetPlayerTagsResult>> GetPlayerTagsAsync(final GetPlayerTagsRequest request) {
         return new FutureTask(new Callable<PlayFabResult<GetPlayerTagsResult>>() {
             public PlayFabResult<GetPlayerTagsResult> call() throws Exception {
-                return privateGetPlayerTagsAsync(request);
+                return privateGetPlayerTagsAsync(null, request);
             }
         });
     }
@@ -2895,7 +2849,7 @@ public class PlayFabClientAPI {
     public static PlayFabResult<GetPlayerTagsResult> GetPlayerTags(final GetPlayerTagsRequest request) {
         FutureTask<PlayFabResult<GetPlayerTagsResult>> task = new FutureTask(new Callable<PlayFabResult<GetPlayerTagsResult>>() {
             public PlayFabResult<GetPlayerTagsResult> call() throws Exception {
-                return privateGetPlayerTagsAsync(request);
+                return privateGetPlayerTagsAsync(null, request);
             }
         });
         try {
@@ -2910,10 +2864,11 @@ public class PlayFabClientAPI {
 
     /** Get all tags with a given Namespace (optional) from a player profile. */
     @SuppressWarnings("unchecked")
-    private static PlayFabResult<GetPlayerTagsResult> privateGetPlayerTagsAsync(final GetPlayerTagsRequest request) throws Exception {
-        if (PlayFabSettings.ClientSessionTicket == null) throw new Exception ("Must be logged in to call this method");
+    static PlayFabResult<GetPlayerTagsResult> privateGetPlayerTagsAsync(final PlayFabInstanceAPI instance, final GetPlayerTagsRequest request) throws Exception {
+        final PlayFabApiContext context = PlayFabInstanceAPI.contextOf(instance);
+        if (context.getClientSessionTicket() == null) throw new Exception ("Must be logged in to call this method");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Client/GetPlayerTags"), request, "X-Authorization", PlayFabSettings.ClientSessionTicket);
+        FutureTask<Object> task = PlayFabHTTP.doPost(context.getURL("/Client/GetPlayerTags"), request, "X-Authorization", context.getClientSessionTicket(), GetPlayerTagsResult.class);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -2924,9 +2879,7 @@ public class PlayFabClientAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
-
-        PlayFabJsonSuccess<GetPlayerTagsResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<GetPlayerTagsResult>>(){}.getType());
+        PlayFabJsonSuccess<GetPlayerTagsResult> resultData = (PlayFabJsonSuccess<GetPlayerTagsResult>) httpResult;
         GetPlayerTagsResult result = resultData.data;
 
         PlayFabResult<GetPlayerTagsResult> pfResult = new PlayFabResult<GetPlayerTagsResult>();
@@ -2943,7 +2896,7 @@ public class PlayFabClientAPI {
     public static FutureTask<PlayFabResult<GetPlayerTradesResponse>> GetPlayerTradesAsync(final GetPlayerTradesRequest request) {
         return new FutureTask(new Callable<PlayFabResult<GetPlayerTradesResponse>>() {
             public PlayFabResult<GetPlayerTradesResponse> call() throws Exception {
-                return privateGetPlayerTradesAsync(request);
+                return privateGetPlayerTradesAsync(null, request);
             }
         });
     }
@@ -2957,7 +2910,7 @@ public class PlayFabClientAPI {
     public static PlayFabResult<GetPlayerTradesResponse> GetPlayerTrades(final GetPlayerTradesRequest request) {
         FutureTask<PlayFabResult<GetPlayerTradesResponse>> task = new FutureTask(new Callable<PlayFabResult<GetPlayerTradesResponse>>() {
             public PlayFabResult<GetPlayerTradesResponse> call() throws Exception {
-                return privateGetPlayerTradesAsync(request);
+                return privateGetPlayerTradesAsync(null, request);
             }
         });
         try {
@@ -2972,10 +2925,11 @@ public class PlayFabClientAPI {
 
     /** Gets all trades the player has either opened or accepted, optionally filtered by trade status. */
     @SuppressWarnings("unchecked")
-    private static PlayFabResult<GetPlayerTradesResponse> privateGetPlayerTradesAsync(final GetPlayerTradesRequest request) throws Exception {
-        if (PlayFabSettings.ClientSessionTicket == null) throw new Exception ("Must be logged in to call this method");
+    static PlayFabResult<GetPlayerTradesResponse> privateGetPlayerTradesAsync(final PlayFabInstanceAPI instance, final GetPlayerTradesRequest request) throws Exception {
+        final PlayFabApiContext context = PlayFabInstanceAPI.contextOf(instance);
+        if (context.getClientSessionTicket() == null) throw new Exception ("Must be logged in to call this method");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Client/GetPlayerTrades"), request, "X-Authorization", PlayFabSettings.ClientSessionTicket);
+        FutureTask<Object> task = PlayFabHTTP.doPost(context.getURL("/Client/GetPlayerTrades"), request, "X-Authorization", context.getClientSessionTicket(), GetPlayerTradesResponse.class);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -2986,9 +2940,7 @@ public class PlayFabClientAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
-
-        PlayFabJsonSuccess<GetPlayerTradesResponse> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<GetPlayerTradesResponse>>(){}.getType());
+        PlayFabJsonSuccess<GetPlayerTradesResponse> resultData = (PlayFabJsonSuccess<GetPlayerTradesResponse>) httpResult;
         GetPlayerTradesResponse result = resultData.data;
 
         PlayFabResult<GetPlayerTradesResponse> pfResult = new PlayFabResult<GetPlayerTradesResponse>();
@@ -3005,7 +2957,7 @@ public class PlayFabClientAPI {
     public static FutureTask<PlayFabResult<GetPlayFabIDsFromFacebookIDsResult>> GetPlayFabIDsFromFacebookIDsAsync(final GetPlayFabIDsFromFacebookIDsRequest request) {
         return new FutureTask(new Callable<PlayFabResult<GetPlayFabIDsFromFacebookIDsResult>>() {
             public PlayFabResult<GetPlayFabIDsFromFacebookIDsResult> call() throws Exception {
-                return privateGetPlayFabIDsFromFacebookIDsAsync(request);
+                return privateGetPlayFabIDsFromFacebookIDsAsync(null, request);
             }
         });
     }
@@ -3019,7 +2971,7 @@ public class PlayFabClientAPI {
     public static PlayFabResult<GetPlayFabIDsFromFacebookIDsResult> GetPlayFabIDsFromFacebookIDs(final GetPlayFabIDsFromFacebookIDsRequest request) {
         FutureTask<PlayFabResult<GetPlayFabIDsFromFacebookIDsResult>> task = new FutureTask(new Callable<PlayFabResult<GetPlayFabIDsFromFacebookIDsResult>>() {
             public PlayFabResult<GetPlayFabIDsFromFacebookIDsResult> call() throws Exception {
-                return privateGetPlayFabIDsFromFacebookIDsAsync(request);
+                return privateGetPlayFabIDsFromFacebookIDsAsync(null, request);
             }
         });
         try {
@@ -3034,10 +2986,11 @@ public class PlayFabClientAPI {
 
     /** Retrieves the unique PlayFab identifiers for the given set of Facebook identifiers. */
     @SuppressWarnings("unchecked")
-    private static PlayFabResult<GetPlayFabIDsFromFacebookIDsResult> privateGetPlayFabIDsFromFacebookIDsAsync(final GetPlayFabIDsFromFacebookIDsRequest request) throws Exception {
-        if (PlayFabSettings.ClientSessionTicket == null) throw new Exception ("Must be logged in to call this method");
+    static PlayFabResult<GetPlayFabIDsFromFacebookIDsResult> privateGetPlayFabIDsFromFacebookIDsAsync(final PlayFabInstanceAPI instance, final GetPlayFabIDsFromFacebookIDsRequest request) throws Exception {
+        final PlayFabApiContext context = PlayFabInstanceAPI.contextOf(instance);
+        if (context.getClientSessionTicket() == null) throw new Exception ("Must be logged in to call this method");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Client/GetPlayFabIDsFromFacebookIDs"), request, "X-Authorization", PlayFabSettings.ClientSessionTicket);
+        FutureTask<Object> task = PlayFabHTTP.doPost(context.getURL("/Client/GetPlayFabIDsFromFacebookIDs"), request, "X-Authorization", context.getClientSessionTicket(), GetPlayFabIDsFromFacebookIDsResult.class);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -3048,9 +3001,7 @@ public class PlayFabClientAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
-
-        PlayFabJsonSuccess<GetPlayFabIDsFromFacebookIDsResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<GetPlayFabIDsFromFacebookIDsResult>>(){}.getType());
+        PlayFabJsonSuccess<GetPlayFabIDsFromFacebookIDsResult> resultData = (PlayFabJsonSuccess<GetPlayFabIDsFromFacebookIDsResult>) httpResult;
         GetPlayFabIDsFromFacebookIDsResult result = resultData.data;
 
         PlayFabResult<GetPlayFabIDsFromFacebookIDsResult> pfResult = new PlayFabResult<GetPlayFabIDsFromFacebookIDsResult>();
@@ -3067,7 +3018,7 @@ public class PlayFabClientAPI {
     public static FutureTask<PlayFabResult<GetPlayFabIDsFromFacebookInstantGamesIdsResult>> GetPlayFabIDsFromFacebookInstantGamesIdsAsync(final GetPlayFabIDsFromFacebookInstantGamesIdsRequest request) {
         return new FutureTask(new Callable<PlayFabResult<GetPlayFabIDsFromFacebookInstantGamesIdsResult>>() {
             public PlayFabResult<GetPlayFabIDsFromFacebookInstantGamesIdsResult> call() throws Exception {
-                return privateGetPlayFabIDsFromFacebookInstantGamesIdsAsync(request);
+                return privateGetPlayFabIDsFromFacebookInstantGamesIdsAsync(null, request);
             }
         });
     }
@@ -3081,7 +3032,7 @@ public class PlayFabClientAPI {
     public static PlayFabResult<GetPlayFabIDsFromFacebookInstantGamesIdsResult> GetPlayFabIDsFromFacebookInstantGamesIds(final GetPlayFabIDsFromFacebookInstantGamesIdsRequest request) {
         FutureTask<PlayFabResult<GetPlayFabIDsFromFacebookInstantGamesIdsResult>> task = new FutureTask(new Callable<PlayFabResult<GetPlayFabIDsFromFacebookInstantGamesIdsResult>>() {
             public PlayFabResult<GetPlayFabIDsFromFacebookInstantGamesIdsResult> call() throws Exception {
-                return privateGetPlayFabIDsFromFacebookInstantGamesIdsAsync(request);
+                return privateGetPlayFabIDsFromFacebookInstantGamesIdsAsync(null, request);
             }
         });
         try {
@@ -3096,10 +3047,11 @@ public class PlayFabClientAPI {
 
     /** Retrieves the unique PlayFab identifiers for the given set of Facebook Instant Game identifiers. */
     @SuppressWarnings("unchecked")
-    private static PlayFabResult<GetPlayFabIDsFromFacebookInstantGamesIdsResult> privateGetPlayFabIDsFromFacebookInstantGamesIdsAsync(final GetPlayFabIDsFromFacebookInstantGamesIdsRequest request) throws Exception {
-        if (PlayFabSettings.ClientSessionTicket == null) throw new Exception ("Must be logged in to call this method");
+    static PlayFabResult<GetPlayFabIDsFromFacebookInstantGamesIdsResult> privateGetPlayFabIDsFromFacebookInstantGamesIdsAsync(final PlayFabInstanceAPI instance, final GetPlayFabIDsFromFacebookInstantGamesIdsRequest request) throws Exception {
+        final PlayFabApiContext context = PlayFabInstanceAPI.contextOf(instance);
+        if (context.getClientSessionTicket() == null) throw new Exception ("Must be logged in to call this method");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Client/GetPlayFabIDsFromFacebookInstantGamesIds"), request, "X-Authorization", PlayFabSettings.ClientSessionTicket);
+        FutureTask<Object> task = PlayFabHTTP.doPost(context.getURL("/Client/GetPlayFabIDsFromFacebookInstantGamesIds"), request, "X-Authorization", context.getClientSessionTicket(), GetPlayFabIDsFromFacebookInstantGamesIdsResult.class);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -3110,9 +3062,7 @@ public class PlayFabClientAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
-
-        PlayFabJsonSuccess<GetPlayFabIDsFromFacebookInstantGamesIdsResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<GetPlayFabIDsFromFacebookInstantGamesIdsResult>>(){}.getType());
+        PlayFabJsonSuccess<GetPlayFabIDsFromFacebookInstantGamesIdsResult> resultData = (PlayFabJsonSuccess<GetPlayFabIDsFromFacebookInstantGamesIdsResult>) httpResult;
         GetPlayFabIDsFromFacebookInstantGamesIdsResult result = resultData.data;
 
         PlayFabResult<GetPlayFabIDsFromFacebookInstantGamesIdsResult> pfResult = new PlayFabResult<GetPlayFabIDsFromFacebookInstantGamesIdsResult>();
@@ -3130,7 +3080,7 @@ public class PlayFabClientAPI {
     public static FutureTask<PlayFabResult<GetPlayFabIDsFromGameCenterIDsResult>> GetPlayFabIDsFromGameCenterIDsAsync(final GetPlayFabIDsFromGameCenterIDsRequest request) {
         return new FutureTask(new Callable<PlayFabResult<GetPlayFabIDsFromGameCenterIDsResult>>() {
             public PlayFabResult<GetPlayFabIDsFromGameCenterIDsResult> call() throws Exception {
-                return privateGetPlayFabIDsFromGameCenterIDsAsync(request);
+                return privateGetPlayFabIDsFromGameCenterIDsAsync(null, request);
             }
         });
     }
@@ -3145,7 +3095,7 @@ public class PlayFabClientAPI {
     public static PlayFabResult<GetPlayFabIDsFromGameCenterIDsResult> GetPlayFabIDsFromGameCenterIDs(final GetPlayFabIDsFromGameCenterIDsRequest request) {
         FutureTask<PlayFabResult<GetPlayFabIDsFromGameCenterIDsResult>> task = new FutureTask(new Callable<PlayFabResult<GetPlayFabIDsFromGameCenterIDsResult>>() {
             public PlayFabResult<GetPlayFabIDsFromGameCenterIDsResult> call() throws Exception {
-                return privateGetPlayFabIDsFromGameCenterIDsAsync(request);
+                return privateGetPlayFabIDsFromGameCenterIDsAsync(null, request);
             }
         });
         try {
@@ -3163,10 +3113,11 @@ public class PlayFabClientAPI {
      * Programming Guide as the Player Identifier).
      */
     @SuppressWarnings("unchecked")
-    private static PlayFabResult<GetPlayFabIDsFromGameCenterIDsResult> privateGetPlayFabIDsFromGameCenterIDsAsync(final GetPlayFabIDsFromGameCenterIDsRequest request) throws Exception {
-        if (PlayFabSettings.ClientSessionTicket == null) throw new Exception ("Must be logged in to call this method");
+    static PlayFabResult<GetPlayFabIDsFromGameCenterIDsResult> privateGetPlayFabIDsFromGameCenterIDsAsync(final PlayFabInstanceAPI instance, final GetPlayFabIDsFromGameCenterIDsRequest request) throws Exception {
+        final PlayFabApiContext context = PlayFabInstanceAPI.contextOf(instance);
+        if (context.getClientSessionTicket() == null) throw new Exception ("Must be logged in to call this method");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Client/GetPlayFabIDsFromGameCenterIDs"), request, "X-Authorization", PlayFabSettings.ClientSessionTicket);
+        FutureTask<Object> task = PlayFabHTTP.doPost(context.getURL("/Client/GetPlayFabIDsFromGameCenterIDs"), request, "X-Authorization", context.getClientSessionTicket(), GetPlayFabIDsFromGameCenterIDsResult.class);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -3177,9 +3128,7 @@ public class PlayFabClientAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
-
-        PlayFabJsonSuccess<GetPlayFabIDsFromGameCenterIDsResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<GetPlayFabIDsFromGameCenterIDsResult>>(){}.getType());
+        PlayFabJsonSuccess<GetPlayFabIDsFromGameCenterIDsResult> resultData = (PlayFabJsonSuccess<GetPlayFabIDsFromGameCenterIDsResult>) httpResult;
         GetPlayFabIDsFromGameCenterIDsResult result = resultData.data;
 
         PlayFabResult<GetPlayFabIDsFromGameCenterIDsResult> pfResult = new PlayFabResult<GetPlayFabIDsFromGameCenterIDsResult>();
@@ -3198,7 +3147,7 @@ public class PlayFabClientAPI {
     public static FutureTask<PlayFabResult<GetPlayFabIDsFromGenericIDsResult>> GetPlayFabIDsFromGenericIDsAsync(final GetPlayFabIDsFromGenericIDsRequest request) {
         return new FutureTask(new Callable<PlayFabResult<GetPlayFabIDsFromGenericIDsResult>>() {
             public PlayFabResult<GetPlayFabIDsFromGenericIDsResult> call() throws Exception {
-                return privateGetPlayFabIDsFromGenericIDsAsync(request);
+                return privateGetPlayFabIDsFromGenericIDsAsync(null, request);
             }
         });
     }
@@ -3214,7 +3163,7 @@ public class PlayFabClientAPI {
     public static PlayFabResult<GetPlayFabIDsFromGenericIDsResult> GetPlayFabIDsFromGenericIDs(final GetPlayFabIDsFromGenericIDsRequest request) {
         FutureTask<PlayFabResult<GetPlayFabIDsFromGenericIDsResult>> task = new FutureTask(new Callable<PlayFabResult<GetPlayFabIDsFromGenericIDsResult>>() {
             public PlayFabResult<GetPlayFabIDsFromGenericIDsResult> call() throws Exception {
-                return privateGetPlayFabIDsFromGenericIDsAsync(request);
+                return privateGetPlayFabIDsFromGenericIDsAsync(null, request);
             }
         });
         try {
@@ -3233,10 +3182,11 @@ public class PlayFabClientAPI {
      * added to the player account.
      */
     @SuppressWarnings("unchecked")
-    private static PlayFabResult<GetPlayFabIDsFromGenericIDsResult> privateGetPlayFabIDsFromGenericIDsAsync(final GetPlayFabIDsFromGenericIDsRequest request) throws Exception {
-        if (PlayFabSettings.ClientSessionTicket == null) throw new Exception ("Must be logged in to call this method");
+    static PlayFabResult<GetPlayFabIDsFromGenericIDsResult> privateGetPlayFabIDsFromGenericIDsAsync(final PlayFabInstanceAPI instance, final GetPlayFabIDsFromGenericIDsRequest request) throws Exception {
+        final PlayFabApiContext context = PlayFabInstanceAPI.contextOf(instance);
+        if (context.getClientSessionTicket() == null) throw new Exception ("Must be logged in to call this method");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Client/GetPlayFabIDsFromGenericIDs"), request, "X-Authorization", PlayFabSettings.ClientSessionTicket);
+        FutureTask<Object> task = PlayFabHTTP.doPost(context.getURL("/Client/GetPlayFabIDsFromGenericIDs"), request, "X-Authorization", context.getClientSessionTicket(), GetPlayFabIDsFromGenericIDsResult.class);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -3247,9 +3197,7 @@ public class PlayFabClientAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
-
-        PlayFabJsonSuccess<GetPlayFabIDsFromGenericIDsResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<GetPlayFabIDsFromGenericIDsResult>>(){}.getType());
+        PlayFabJsonSuccess<GetPlayFabIDsFromGenericIDsResult> resultData = (PlayFabJsonSuccess<GetPlayFabIDsFromGenericIDsResult>) httpResult;
         GetPlayFabIDsFromGenericIDsResult result = resultData.data;
 
         PlayFabResult<GetPlayFabIDsFromGenericIDsResult> pfResult = new PlayFabResult<GetPlayFabIDsFromGenericIDsResult>();
@@ -3267,7 +3215,7 @@ public class PlayFabClientAPI {
     public static FutureTask<PlayFabResult<GetPlayFabIDsFromGoogleIDsResult>> GetPlayFabIDsFromGoogleIDsAsync(final GetPlayFabIDsFromGoogleIDsRequest request) {
         return new FutureTask(new Callable<PlayFabResult<GetPlayFabIDsFromGoogleIDsResult>>() {
             public PlayFabResult<GetPlayFabIDsFromGoogleIDsResult> call() throws Exception {
-                return privateGetPlayFabIDsFromGoogleIDsAsync(request);
+                return privateGetPlayFabIDsFromGoogleIDsAsync(null, request);
             }
         });
     }
@@ -3282,7 +3230,7 @@ public class PlayFabClientAPI {
     public static PlayFabResult<GetPlayFabIDsFromGoogleIDsResult> GetPlayFabIDsFromGoogleIDs(final GetPlayFabIDsFromGoogleIDsRequest request) {
         FutureTask<PlayFabResult<GetPlayFabIDsFromGoogleIDsResult>> task = new FutureTask(new Callable<PlayFabResult<GetPlayFabIDsFromGoogleIDsResult>>() {
             public PlayFabResult<GetPlayFabIDsFromGoogleIDsResult> call() throws Exception {
-                return privateGetPlayFabIDsFromGoogleIDsAsync(request);
+                return privateGetPlayFabIDsFromGoogleIDsAsync(null, request);
             }
         });
         try {
@@ -3300,10 +3248,11 @@ public class PlayFabClientAPI {
      * the user accounts, available as "id" in the Google+ People API calls.
      */
     @SuppressWarnings("unchecked")
-    private static PlayFabResult<GetPlayFabIDsFromGoogleIDsResult> privateGetPlayFabIDsFromGoogleIDsAsync(final GetPlayFabIDsFromGoogleIDsRequest request) throws Exception {
-        if (PlayFabSettings.ClientSessionTicket == null) throw new Exception ("Must be logged in to call this method");
+    static PlayFabResult<GetPlayFabIDsFromGoogleIDsResult> privateGetPlayFabIDsFromGoogleIDsAsync(final PlayFabInstanceAPI instance, final GetPlayFabIDsFromGoogleIDsRequest request) throws Exception {
+        final PlayFabApiContext context = PlayFabInstanceAPI.contextOf(instance);
+        if (context.getClientSessionTicket() == null) throw new Exception ("Must be logged in to call this method");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Client/GetPlayFabIDsFromGoogleIDs"), request, "X-Authorization", PlayFabSettings.ClientSessionTicket);
+        FutureTask<Object> task = PlayFabHTTP.doPost(context.getURL("/Client/GetPlayFabIDsFromGoogleIDs"), request, "X-Authorization", context.getClientSessionTicket(), GetPlayFabIDsFromGoogleIDsResult.class);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -3314,9 +3263,7 @@ public class PlayFabClientAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
-
-        PlayFabJsonSuccess<GetPlayFabIDsFromGoogleIDsResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<GetPlayFabIDsFromGoogleIDsResult>>(){}.getType());
+        PlayFabJsonSuccess<GetPlayFabIDsFromGoogleIDsResult> resultData = (PlayFabJsonSuccess<GetPlayFabIDsFromGoogleIDsResult>) httpResult;
         GetPlayFabIDsFromGoogleIDsResult result = resultData.data;
 
         PlayFabResult<GetPlayFabIDsFromGoogleIDsResult> pfResult = new PlayFabResult<GetPlayFabIDsFromGoogleIDsResult>();
@@ -3335,7 +3282,7 @@ public class PlayFabClientAPI {
     public static FutureTask<PlayFabResult<GetPlayFabIDsFromKongregateIDsResult>> GetPlayFabIDsFromKongregateIDsAsync(final GetPlayFabIDsFromKongregateIDsRequest request) {
         return new FutureTask(new Callable<PlayFabResult<GetPlayFabIDsFromKongregateIDsResult>>() {
             public PlayFabResult<GetPlayFabIDsFromKongregateIDsResult> call() throws Exception {
-                return privateGetPlayFabIDsFromKongregateIDsAsync(request);
+                return privateGetPlayFabIDsFromKongregateIDsAsync(null, request);
             }
         });
     }
@@ -3351,7 +3298,7 @@ public class PlayFabClientAPI {
     public static PlayFabResult<GetPlayFabIDsFromKongregateIDsResult> GetPlayFabIDsFromKongregateIDs(final GetPlayFabIDsFromKongregateIDsRequest request) {
         FutureTask<PlayFabResult<GetPlayFabIDsFromKongregateIDsResult>> task = new FutureTask(new Callable<PlayFabResult<GetPlayFabIDsFromKongregateIDsResult>>() {
             public PlayFabResult<GetPlayFabIDsFromKongregateIDsResult> call() throws Exception {
-                return privateGetPlayFabIDsFromKongregateIDsAsync(request);
+                return privateGetPlayFabIDsFromKongregateIDsAsync(null, request);
             }
         });
         try {
@@ -3370,10 +3317,11 @@ public class PlayFabClientAPI {
      * http://developers.kongregate.com/docs/client/getUserId).
      */
     @SuppressWarnings("unchecked")
-    private static PlayFabResult<GetPlayFabIDsFromKongregateIDsResult> privateGetPlayFabIDsFromKongregateIDsAsync(final GetPlayFabIDsFromKongregateIDsRequest request) throws Exception {
-        if (PlayFabSettings.ClientSessionTicket == null) throw new Exception ("Must be logged in to call this method");
+    static PlayFabResult<GetPlayFabIDsFromKongregateIDsResult> privateGetPlayFabIDsFromKongregateIDsAsync(final PlayFabInstanceAPI instance, final GetPlayFabIDsFromKongregateIDsRequest request) throws Exception {
+        final PlayFabApiContext context = PlayFabInstanceAPI.contextOf(instance);
+        if (context.getClientSessionTicket() == null) throw new Exception ("Must be logged in to call this method");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Client/GetPlayFabIDsFromKongregateIDs"), request, "X-Authorization", PlayFabSettings.ClientSessionTicket);
+        FutureTask<Object> task = PlayFabHTTP.doPost(context.getURL("/Client/GetPlayFabIDsFromKongregateIDs"), request, "X-Authorization", context.getClientSessionTicket(), GetPlayFabIDsFromKongregateIDsResult.class);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -3384,9 +3332,7 @@ public class PlayFabClientAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
-
-        PlayFabJsonSuccess<GetPlayFabIDsFromKongregateIDsResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<GetPlayFabIDsFromKongregateIDsResult>>(){}.getType());
+        PlayFabJsonSuccess<GetPlayFabIDsFromKongregateIDsResult> resultData = (PlayFabJsonSuccess<GetPlayFabIDsFromKongregateIDsResult>) httpResult;
         GetPlayFabIDsFromKongregateIDsResult result = resultData.data;
 
         PlayFabResult<GetPlayFabIDsFromKongregateIDsResult> pfResult = new PlayFabResult<GetPlayFabIDsFromKongregateIDsResult>();
@@ -3403,7 +3349,7 @@ public class PlayFabClientAPI {
     public static FutureTask<PlayFabResult<GetPlayFabIDsFromNintendoSwitchDeviceIdsResult>> GetPlayFabIDsFromNintendoSwitchDeviceIdsAsync(final GetPlayFabIDsFromNintendoSwitchDeviceIdsRequest request) {
         return new FutureTask(new Callable<PlayFabResult<GetPlayFabIDsFromNintendoSwitchDeviceIdsResult>>() {
             public PlayFabResult<GetPlayFabIDsFromNintendoSwitchDeviceIdsResult> call() throws Exception {
-                return privateGetPlayFabIDsFromNintendoSwitchDeviceIdsAsync(request);
+                return privateGetPlayFabIDsFromNintendoSwitchDeviceIdsAsync(null, request);
             }
         });
     }
@@ -3417,7 +3363,7 @@ public class PlayFabClientAPI {
     public static PlayFabResult<GetPlayFabIDsFromNintendoSwitchDeviceIdsResult> GetPlayFabIDsFromNintendoSwitchDeviceIds(final GetPlayFabIDsFromNintendoSwitchDeviceIdsRequest request) {
         FutureTask<PlayFabResult<GetPlayFabIDsFromNintendoSwitchDeviceIdsResult>> task = new FutureTask(new Callable<PlayFabResult<GetPlayFabIDsFromNintendoSwitchDeviceIdsResult>>() {
             public PlayFabResult<GetPlayFabIDsFromNintendoSwitchDeviceIdsResult> call() throws Exception {
-                return privateGetPlayFabIDsFromNintendoSwitchDeviceIdsAsync(request);
+                return privateGetPlayFabIDsFromNintendoSwitchDeviceIdsAsync(null, request);
             }
         });
         try {
@@ -3432,10 +3378,11 @@ public class PlayFabClientAPI {
 
     /** Retrieves the unique PlayFab identifiers for the given set of Nintendo Switch identifiers. */
     @SuppressWarnings("unchecked")
-    private static PlayFabResult<GetPlayFabIDsFromNintendoSwitchDeviceIdsResult> privateGetPlayFabIDsFromNintendoSwitchDeviceIdsAsync(final GetPlayFabIDsFromNintendoSwitchDeviceIdsRequest request) throws Exception {
-        if (PlayFabSettings.ClientSessionTicket == null) throw new Exception ("Must be logged in to call this method");
+    static PlayFabResult<GetPlayFabIDsFromNintendoSwitchDeviceIdsResult> privateGetPlayFabIDsFromNintendoSwitchDeviceIdsAsync(final PlayFabInstanceAPI instance, final GetPlayFabIDsFromNintendoSwitchDeviceIdsRequest request) throws Exception {
+        final PlayFabApiContext context = PlayFabInstanceAPI.contextOf(instance);
+        if (context.getClientSessionTicket() == null) throw new Exception ("Must be logged in to call this method");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Client/GetPlayFabIDsFromNintendoSwitchDeviceIds"), request, "X-Authorization", PlayFabSettings.ClientSessionTicket);
+        FutureTask<Object> task = PlayFabHTTP.doPost(context.getURL("/Client/GetPlayFabIDsFromNintendoSwitchDeviceIds"), request, "X-Authorization", context.getClientSessionTicket(), GetPlayFabIDsFromNintendoSwitchDeviceIdsResult.class);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -3446,9 +3393,7 @@ public class PlayFabClientAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
-
-        PlayFabJsonSuccess<GetPlayFabIDsFromNintendoSwitchDeviceIdsResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<GetPlayFabIDsFromNintendoSwitchDeviceIdsResult>>(){}.getType());
+        PlayFabJsonSuccess<GetPlayFabIDsFromNintendoSwitchDeviceIdsResult> resultData = (PlayFabJsonSuccess<GetPlayFabIDsFromNintendoSwitchDeviceIdsResult>) httpResult;
         GetPlayFabIDsFromNintendoSwitchDeviceIdsResult result = resultData.data;
 
         PlayFabResult<GetPlayFabIDsFromNintendoSwitchDeviceIdsResult> pfResult = new PlayFabResult<GetPlayFabIDsFromNintendoSwitchDeviceIdsResult>();
@@ -3465,7 +3410,7 @@ public class PlayFabClientAPI {
     public static FutureTask<PlayFabResult<GetPlayFabIDsFromPSNAccountIDsResult>> GetPlayFabIDsFromPSNAccountIDsAsync(final GetPlayFabIDsFromPSNAccountIDsRequest request) {
         return new FutureTask(new Callable<PlayFabResult<GetPlayFabIDsFromPSNAccountIDsResult>>() {
             public PlayFabResult<GetPlayFabIDsFromPSNAccountIDsResult> call() throws Exception {
-                return privateGetPlayFabIDsFromPSNAccountIDsAsync(request);
+                return privateGetPlayFabIDsFromPSNAccountIDsAsync(null, request);
             }
         });
     }
@@ -3479,7 +3424,7 @@ public class PlayFabClientAPI {
     public static PlayFabResult<GetPlayFabIDsFromPSNAccountIDsResult> GetPlayFabIDsFromPSNAccountIDs(final GetPlayFabIDsFromPSNAccountIDsRequest request) {
         FutureTask<PlayFabResult<GetPlayFabIDsFromPSNAccountIDsResult>> task = new FutureTask(new Callable<PlayFabResult<GetPlayFabIDsFromPSNAccountIDsResult>>() {
             public PlayFabResult<GetPlayFabIDsFromPSNAccountIDsResult> call() throws Exception {
-                return privateGetPlayFabIDsFromPSNAccountIDsAsync(request);
+                return privateGetPlayFabIDsFromPSNAccountIDsAsync(null, request);
             }
         });
         try {
@@ -3494,10 +3439,11 @@ public class PlayFabClientAPI {
 
     /** Retrieves the unique PlayFab identifiers for the given set of PlayStation Network identifiers. */
     @SuppressWarnings("unchecked")
-    private static PlayFabResult<GetPlayFabIDsFromPSNAccountIDsResult> privateGetPlayFabIDsFromPSNAccountIDsAsync(final GetPlayFabIDsFromPSNAccountIDsRequest request) throws Exception {
-        if (PlayFabSettings.ClientSessionTicket == null) throw new Exception ("Must be logged in to call this method");
+    static PlayFabResult<GetPlayFabIDsFromPSNAccountIDsResult> privateGetPlayFabIDsFromPSNAccountIDsAsync(final PlayFabInstanceAPI instance, final GetPlayFabIDsFromPSNAccountIDsRequest request) throws Exception {
+        final PlayFabApiContext context = PlayFabInstanceAPI.contextOf(instance);
+        if (context.getClientSessionTicket() == null) throw new Exception ("Must be logged in to call this method");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Client/GetPlayFabIDsFromPSNAccountIDs"), request, "X-Authorization", PlayFabSettings.ClientSessionTicket);
+        FutureTask<Object> task = PlayFabHTTP.doPost(context.getURL("/Client/GetPlayFabIDsFromPSNAccountIDs"), request, "X-Authorization", context.getClientSessionTicket(), GetPlayFabIDsFromPSNAccountIDsResult.class);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -3508,9 +3454,7 @@ public class PlayFabClientAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
-
-        PlayFabJsonSuccess<GetPlayFabIDsFromPSNAccountIDsResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<GetPlayFabIDsFromPSNAccountIDsResult>>(){}.getType());
+        PlayFabJsonSuccess<GetPlayFabIDsFromPSNAccountIDsResult> resultData = (PlayFabJsonSuccess<GetPlayFabIDsFromPSNAccountIDsResult>) httpResult;
         GetPlayFabIDsFromPSNAccountIDsResult result = resultData.data;
 
         PlayFabResult<GetPlayFabIDsFromPSNAccountIDsResult> pfResult = new PlayFabResult<GetPlayFabIDsFromPSNAccountIDsResult>();
@@ -3528,7 +3472,7 @@ public class PlayFabClientAPI {
     public static FutureTask<PlayFabResult<GetPlayFabIDsFromSteamIDsResult>> GetPlayFabIDsFromSteamIDsAsync(final GetPlayFabIDsFromSteamIDsRequest request) {
         return new FutureTask(new Callable<PlayFabResult<GetPlayFabIDsFromSteamIDsResult>>() {
             public PlayFabResult<GetPlayFabIDsFromSteamIDsResult> call() throws Exception {
-                return privateGetPlayFabIDsFromSteamIDsAsync(request);
+                return privateGetPlayFabIDsFromSteamIDsAsync(null, request);
             }
         });
     }
@@ -3543,7 +3487,7 @@ public class PlayFabClientAPI {
     public static PlayFabResult<GetPlayFabIDsFromSteamIDsResult> GetPlayFabIDsFromSteamIDs(final GetPlayFabIDsFromSteamIDsRequest request) {
         FutureTask<PlayFabResult<GetPlayFabIDsFromSteamIDsResult>> task = new FutureTask(new Callable<PlayFabResult<GetPlayFabIDsFromSteamIDsResult>>() {
             public PlayFabResult<GetPlayFabIDsFromSteamIDsResult> call() throws Exception {
-                return privateGetPlayFabIDsFromSteamIDsAsync(request);
+                return privateGetPlayFabIDsFromSteamIDsAsync(null, request);
             }
         });
         try {
@@ -3561,10 +3505,11 @@ public class PlayFabClientAPI {
      * IDs for the user accounts, available as SteamId in the Steamworks Community API calls.
      */
     @SuppressWarnings("unchecked")
-    private static PlayFabResult<GetPlayFabIDsFromSteamIDsResult> privateGetPlayFabIDsFromSteamIDsAsync(final GetPlayFabIDsFromSteamIDsRequest request) throws Exception {
-        if (PlayFabSettings.ClientSessionTicket == null) throw new Exception ("Must be logged in to call this method");
+    static PlayFabResult<GetPlayFabIDsFromSteamIDsResult> privateGetPlayFabIDsFromSteamIDsAsync(final PlayFabInstanceAPI instance, final GetPlayFabIDsFromSteamIDsRequest request) throws Exception {
+        final PlayFabApiContext context = PlayFabInstanceAPI.contextOf(instance);
+        if (context.getClientSessionTicket() == null) throw new Exception ("Must be logged in to call this method");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Client/GetPlayFabIDsFromSteamIDs"), request, "X-Authorization", PlayFabSettings.ClientSessionTicket);
+        FutureTask<Object> task = PlayFabHTTP.doPost(context.getURL("/Client/GetPlayFabIDsFromSteamIDs"), request, "X-Authorization", context.getClientSessionTicket(), GetPlayFabIDsFromSteamIDsResult.class);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -3575,9 +3520,7 @@ public class PlayFabClientAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
-
-        PlayFabJsonSuccess<GetPlayFabIDsFromSteamIDsResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<GetPlayFabIDsFromSteamIDsResult>>(){}.getType());
+        PlayFabJsonSuccess<GetPlayFabIDsFromSteamIDsResult> resultData = (PlayFabJsonSuccess<GetPlayFabIDsFromSteamIDsResult>) httpResult;
         GetPlayFabIDsFromSteamIDsResult result = resultData.data;
 
         PlayFabResult<GetPlayFabIDsFromSteamIDsResult> pfResult = new PlayFabResult<GetPlayFabIDsFromSteamIDsResult>();
@@ -3596,7 +3539,7 @@ public class PlayFabClientAPI {
     public static FutureTask<PlayFabResult<GetPlayFabIDsFromTwitchIDsResult>> GetPlayFabIDsFromTwitchIDsAsync(final GetPlayFabIDsFromTwitchIDsRequest request) {
         return new FutureTask(new Callable<PlayFabResult<GetPlayFabIDsFromTwitchIDsResult>>() {
             public PlayFabResult<GetPlayFabIDsFromTwitchIDsResult> call() throws Exception {
-                return privateGetPlayFabIDsFromTwitchIDsAsync(request);
+                return privateGetPlayFabIDsFromTwitchIDsAsync(null, request);
             }
         });
     }
@@ -3612,7 +3555,7 @@ public class PlayFabClientAPI {
     public static PlayFabResult<GetPlayFabIDsFromTwitchIDsResult> GetPlayFabIDsFromTwitchIDs(final GetPlayFabIDsFromTwitchIDsRequest request) {
         FutureTask<PlayFabResult<GetPlayFabIDsFromTwitchIDsResult>> task = new FutureTask(new Callable<PlayFabResult<GetPlayFabIDsFromTwitchIDsResult>>() {
             public PlayFabResult<GetPlayFabIDsFromTwitchIDsResult> call() throws Exception {
-                return privateGetPlayFabIDsFromTwitchIDsAsync(request);
+                return privateGetPlayFabIDsFromTwitchIDsAsync(null, request);
             }
         });
         try {
@@ -3631,10 +3574,11 @@ public class PlayFabClientAPI {
      * https://github.com/justintv/Twitch-API/blob/master/v3_resources/users.md#get-usersuser).
      */
     @SuppressWarnings("unchecked")
-    private static PlayFabResult<GetPlayFabIDsFromTwitchIDsResult> privateGetPlayFabIDsFromTwitchIDsAsync(final GetPlayFabIDsFromTwitchIDsRequest request) throws Exception {
-        if (PlayFabSettings.ClientSessionTicket == null) throw new Exception ("Must be logged in to call this method");
+    static PlayFabResult<GetPlayFabIDsFromTwitchIDsResult> privateGetPlayFabIDsFromTwitchIDsAsync(final PlayFabInstanceAPI instance, final GetPlayFabIDsFromTwitchIDsRequest request) throws Exception {
+        final PlayFabApiContext context = PlayFabInstanceAPI.contextOf(instance);
+        if (context.getClientSessionTicket() == null) throw new Exception ("Must be logged in to call this method");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Client/GetPlayFabIDsFromTwitchIDs"), request, "X-Authorization", PlayFabSettings.ClientSessionTicket);
+        FutureTask<Object> task = PlayFabHTTP.doPost(context.getURL("/Client/GetPlayFabIDsFromTwitchIDs"), request, "X-Authorization", context.getClientSessionTicket(), GetPlayFabIDsFromTwitchIDsResult.class);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -3645,9 +3589,7 @@ public class PlayFabClientAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
-
-        PlayFabJsonSuccess<GetPlayFabIDsFromTwitchIDsResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<GetPlayFabIDsFromTwitchIDsResult>>(){}.getType());
+        PlayFabJsonSuccess<GetPlayFabIDsFromTwitchIDsResult> resultData = (PlayFabJsonSuccess<GetPlayFabIDsFromTwitchIDsResult>) httpResult;
         GetPlayFabIDsFromTwitchIDsResult result = resultData.data;
 
         PlayFabResult<GetPlayFabIDsFromTwitchIDsResult> pfResult = new PlayFabResult<GetPlayFabIDsFromTwitchIDsResult>();
@@ -3664,7 +3606,7 @@ public class PlayFabClientAPI {
     public static FutureTask<PlayFabResult<GetPlayFabIDsFromXboxLiveIDsResult>> GetPlayFabIDsFromXboxLiveIDsAsync(final GetPlayFabIDsFromXboxLiveIDsRequest request) {
         return new FutureTask(new Callable<PlayFabResult<GetPlayFabIDsFromXboxLiveIDsResult>>() {
             public PlayFabResult<GetPlayFabIDsFromXboxLiveIDsResult> call() throws Exception {
-                return privateGetPlayFabIDsFromXboxLiveIDsAsync(request);
+                return privateGetPlayFabIDsFromXboxLiveIDsAsync(null, request);
             }
         });
     }
@@ -3678,7 +3620,7 @@ public class PlayFabClientAPI {
     public static PlayFabResult<GetPlayFabIDsFromXboxLiveIDsResult> GetPlayFabIDsFromXboxLiveIDs(final GetPlayFabIDsFromXboxLiveIDsRequest request) {
         FutureTask<PlayFabResult<GetPlayFabIDsFromXboxLiveIDsResult>> task = new FutureTask(new Callable<PlayFabResult<GetPlayFabIDsFromXboxLiveIDsResult>>() {
             public PlayFabResult<GetPlayFabIDsFromXboxLiveIDsResult> call() throws Exception {
-                return privateGetPlayFabIDsFromXboxLiveIDsAsync(request);
+                return privateGetPlayFabIDsFromXboxLiveIDsAsync(null, request);
             }
         });
         try {
@@ -3693,10 +3635,11 @@ public class PlayFabClientAPI {
 
     /** Retrieves the unique PlayFab identifiers for the given set of XboxLive identifiers. */
     @SuppressWarnings("unchecked")
-    private static PlayFabResult<GetPlayFabIDsFromXboxLiveIDsResult> privateGetPlayFabIDsFromXboxLiveIDsAsync(final GetPlayFabIDsFromXboxLiveIDsRequest request) throws Exception {
-        if (PlayFabSettings.ClientSessionTicket == null) throw new Exception ("Must be logged in to call this method");
+    static PlayFabResult<GetPlayFabIDsFromXboxLiveIDsResult> privateGetPlayFabIDsFromXboxLiveIDsAsync(final PlayFabInstanceAPI instance, final GetPlayFabIDsFromXboxLiveIDsRequest request) throws Exception {
+        final PlayFabApiContext context = PlayFabInstanceAPI.contextOf(instance);
+        if (context.getClientSessionTicket() == null) throw new Exception ("Must be logged in to call this method");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Client/GetPlayFabIDsFromXboxLiveIDs"), request, "X-Authorization", PlayFabSettings.ClientSessionTicket);
+        FutureTask<Object> task = PlayFabHTTP.doPost(context.getURL("/Client/GetPlayFabIDsFromXboxLiveIDs"), request, "X-Authorization", context.getClientSessionTicket(), GetPlayFabIDsFromXboxLiveIDsResult.class);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -3707,9 +3650,7 @@ public class PlayFabClientAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
-
-        PlayFabJsonSuccess<GetPlayFabIDsFromXboxLiveIDsResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<GetPlayFabIDsFromXboxLiveIDsResult>>(){}.getType());
+        PlayFabJsonSuccess<GetPlayFabIDsFromXboxLiveIDsResult> resultData = (PlayFabJsonSuccess<GetPlayFabIDsFromXboxLiveIDsResult>) httpResult;
         GetPlayFabIDsFromXboxLiveIDsResult result = resultData.data;
 
         PlayFabResult<GetPlayFabIDsFromXboxLiveIDsResult> pfResult = new PlayFabResult<GetPlayFabIDsFromXboxLiveIDsResult>();
@@ -3726,7 +3667,7 @@ public class PlayFabClientAPI {
     public static FutureTask<PlayFabResult<GetPublisherDataResult>> GetPublisherDataAsync(final GetPublisherDataRequest request) {
         return new FutureTask(new Callable<PlayFabResult<GetPublisherDataResult>>() {
             public PlayFabResult<GetPublisherDataResult> call() throws Exception {
-                return privateGetPublisherDataAsync(request);
+                return privateGetPublisherDataAsync(null, request);
             }
         });
     }
@@ -3740,7 +3681,7 @@ public class PlayFabClientAPI {
     public static PlayFabResult<GetPublisherDataResult> GetPublisherData(final GetPublisherDataRequest request) {
         FutureTask<PlayFabResult<GetPublisherDataResult>> task = new FutureTask(new Callable<PlayFabResult<GetPublisherDataResult>>() {
             public PlayFabResult<GetPublisherDataResult> call() throws Exception {
-                return privateGetPublisherDataAsync(request);
+                return privateGetPublisherDataAsync(null, request);
             }
         });
         try {
@@ -3755,10 +3696,11 @@ public class PlayFabClientAPI {
 
     /** Retrieves the key-value store of custom publisher settings */
     @SuppressWarnings("unchecked")
-    private static PlayFabResult<GetPublisherDataResult> privateGetPublisherDataAsync(final GetPublisherDataRequest request) throws Exception {
-        if (PlayFabSettings.ClientSessionTicket == null) throw new Exception ("Must be logged in to call this method");
+    static PlayFabResult<GetPublisherDataResult> privateGetPublisherDataAsync(final PlayFabInstanceAPI instance, final GetPublisherDataRequest request) throws Exception {
+        final PlayFabApiContext context = PlayFabInstanceAPI.contextOf(instance);
+        if (context.getClientSessionTicket() == null) throw new Exception ("Must be logged in to call this method");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Client/GetPublisherData"), request, "X-Authorization", PlayFabSettings.ClientSessionTicket);
+        FutureTask<Object> task = PlayFabHTTP.doPost(context.getURL("/Client/GetPublisherData"), request, "X-Authorization", context.getClientSessionTicket(), GetPublisherDataResult.class);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -3769,9 +3711,7 @@ public class PlayFabClientAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
-
-        PlayFabJsonSuccess<GetPublisherDataResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<GetPublisherDataResult>>(){}.getType());
+        PlayFabJsonSuccess<GetPublisherDataResult> resultData = (PlayFabJsonSuccess<GetPublisherDataResult>) httpResult;
         GetPublisherDataResult result = resultData.data;
 
         PlayFabResult<GetPublisherDataResult> pfResult = new PlayFabResult<GetPublisherDataResult>();
@@ -3789,7 +3729,7 @@ public class PlayFabClientAPI {
     public static FutureTask<PlayFabResult<GetPurchaseResult>> GetPurchaseAsync(final GetPurchaseRequest request) {
         return new FutureTask(new Callable<PlayFabResult<GetPurchaseResult>>() {
             public PlayFabResult<GetPurchaseResult> call() throws Exception {
-                return privateGetPurchaseAsync(request);
+                return privateGetPurchaseAsync(null, request);
             }
         });
     }
@@ -3804,7 +3744,7 @@ public class PlayFabClientAPI {
     public static PlayFabResult<GetPurchaseResult> GetPurchase(final GetPurchaseRequest request) {
         FutureTask<PlayFabResult<GetPurchaseResult>> task = new FutureTask(new Callable<PlayFabResult<GetPurchaseResult>>() {
             public PlayFabResult<GetPurchaseResult> call() throws Exception {
-                return privateGetPurchaseAsync(request);
+                return privateGetPurchaseAsync(null, request);
             }
         });
         try {
@@ -3822,10 +3762,11 @@ public class PlayFabClientAPI {
      * active.
      */
     @SuppressWarnings("unchecked")
-    private static PlayFabResult<GetPurchaseResult> privateGetPurchaseAsync(final GetPurchaseRequest request) throws Exception {
-        if (PlayFabSettings.ClientSessionTicket == null) throw new Exception ("Must be logged in to call this method");
+    static PlayFabResult<GetPurchaseResult> privateGetPurchaseAsync(final PlayFabInstanceAPI instance, final GetPurchaseRequest request) throws Exception {
+        final PlayFabApiContext context = PlayFabInstanceAPI.contextOf(instance);
+        if (context.getClientSessionTicket() == null) throw new Exception ("Must be logged in to call this method");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Client/GetPurchase"), request, "X-Authorization", PlayFabSettings.ClientSessionTicket);
+        FutureTask<Object> task = PlayFabHTTP.doPost(context.getURL("/Client/GetPurchase"), request, "X-Authorization", context.getClientSessionTicket(), GetPurchaseResult.class);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -3836,9 +3777,7 @@ public class PlayFabClientAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
-
-        PlayFabJsonSuccess<GetPurchaseResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<GetPurchaseResult>>(){}.getType());
+        PlayFabJsonSuccess<GetPurchaseResult> resultData = (PlayFabJsonSuccess<GetPurchaseResult>) httpResult;
         GetPurchaseResult result = resultData.data;
 
         PlayFabResult<GetPurchaseResult> pfResult = new PlayFabResult<GetPurchaseResult>();
@@ -3858,7 +3797,7 @@ public class PlayFabClientAPI {
     public static FutureTask<PlayFabResult<GetSharedGroupDataResult>> GetSharedGroupDataAsync(final GetSharedGroupDataRequest request) {
         return new FutureTask(new Callable<PlayFabResult<GetSharedGroupDataResult>>() {
             public PlayFabResult<GetSharedGroupDataResult> call() throws Exception {
-                return privateGetSharedGroupDataAsync(request);
+                return privateGetSharedGroupDataAsync(null, request);
             }
         });
     }
@@ -3875,7 +3814,7 @@ public class PlayFabClientAPI {
     public static PlayFabResult<GetSharedGroupDataResult> GetSharedGroupData(final GetSharedGroupDataRequest request) {
         FutureTask<PlayFabResult<GetSharedGroupDataResult>> task = new FutureTask(new Callable<PlayFabResult<GetSharedGroupDataResult>>() {
             public PlayFabResult<GetSharedGroupDataResult> call() throws Exception {
-                return privateGetSharedGroupDataAsync(request);
+                return privateGetSharedGroupDataAsync(null, request);
             }
         });
         try {
@@ -3895,10 +3834,11 @@ public class PlayFabClientAPI {
      * https://docs.microsoft.com/gaming/playfab/features/social/groups/using-shared-group-data
      */
     @SuppressWarnings("unchecked")
-    private static PlayFabResult<GetSharedGroupDataResult> privateGetSharedGroupDataAsync(final GetSharedGroupDataRequest request) throws Exception {
-        if (PlayFabSettings.ClientSessionTicket == null) throw new Exception ("Must be logged in to call this method");
+    static PlayFabResult<GetSharedGroupDataResult> privateGetSharedGroupDataAsync(final PlayFabInstanceAPI instance, final GetSharedGroupDataRequest request) throws Exception {
+        final PlayFabApiContext context = PlayFabInstanceAPI.contextOf(instance);
+        if (context.getClientSessionTicket() == null) throw new Exception ("Must be logged in to call this method");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Client/GetSharedGroupData"), request, "X-Authorization", PlayFabSettings.ClientSessionTicket);
+        FutureTask<Object> task = PlayFabHTTP.doPost(context.getURL("/Client/GetSharedGroupData"), request, "X-Authorization", context.getClientSessionTicket(), GetSharedGroupDataResult.class);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -3909,9 +3849,7 @@ public class PlayFabClientAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
-
-        PlayFabJsonSuccess<GetSharedGroupDataResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<GetSharedGroupDataResult>>(){}.getType());
+        PlayFabJsonSuccess<GetSharedGroupDataResult> resultData = (PlayFabJsonSuccess<GetSharedGroupDataResult>) httpResult;
         GetSharedGroupDataResult result = resultData.data;
 
         PlayFabResult<GetSharedGroupDataResult> pfResult = new PlayFabResult<GetSharedGroupDataResult>();
@@ -3928,7 +3866,7 @@ public class PlayFabClientAPI {
     public static FutureTask<PlayFabResult<GetStoreItemsResult>> GetStoreItemsAsync(final GetStoreItemsRequest request) {
         return new FutureTask(new Callable<PlayFabResult<GetStoreItemsResult>>() {
             public PlayFabResult<GetStoreItemsResult> call() throws Exception {
-                return privateGetStoreItemsAsync(request);
+                return privateGetStoreItemsAsync(null, request);
             }
         });
     }
@@ -3942,7 +3880,7 @@ public class PlayFabClientAPI {
     public static PlayFabResult<GetStoreItemsResult> GetStoreItems(final GetStoreItemsRequest request) {
         FutureTask<PlayFabResult<GetStoreItemsResult>> task = new FutureTask(new Callable<PlayFabResult<GetStoreItemsResult>>() {
             public PlayFabResult<GetStoreItemsResult> call() throws Exception {
-                return privateGetStoreItemsAsync(request);
+                return privateGetStoreItemsAsync(null, request);
             }
         });
         try {
@@ -3957,10 +3895,11 @@ public class PlayFabClientAPI {
 
     /** Retrieves the set of items defined for the specified store, including all prices defined */
     @SuppressWarnings("unchecked")
-    private static PlayFabResult<GetStoreItemsResult> privateGetStoreItemsAsync(final GetStoreItemsRequest request) throws Exception {
-        if (PlayFabSettings.ClientSessionTicket == null) throw new Exception ("Must be logged in to call this method");
+    static PlayFabResult<GetStoreItemsResult> privateGetStoreItemsAsync(final PlayFabInstanceAPI instance, final GetStoreItemsRequest request) throws Exception {
+        final PlayFabApiContext context = PlayFabInstanceAPI.contextOf(instance);
+        if (context.getClientSessionTicket() == null) throw new Exception ("Must be logged in to call this method");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Client/GetStoreItems"), request, "X-Authorization", PlayFabSettings.ClientSessionTicket);
+        FutureTask<Object> task = PlayFabHTTP.doPost(context.getURL("/Client/GetStoreItems"), request, "X-Authorization", context.getClientSessionTicket(), GetStoreItemsResult.class);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -3971,9 +3910,7 @@ public class PlayFabClientAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
-
-        PlayFabJsonSuccess<GetStoreItemsResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<GetStoreItemsResult>>(){}.getType());
+        PlayFabJsonSuccess<GetStoreItemsResult> resultData = (PlayFabJsonSuccess<GetStoreItemsResult>) httpResult;
         GetStoreItemsResult result = resultData.data;
 
         PlayFabResult<GetStoreItemsResult> pfResult = new PlayFabResult<GetStoreItemsResult>();
@@ -3990,7 +3927,7 @@ public class PlayFabClientAPI {
     public static FutureTask<PlayFabResult<GetTimeResult>> GetTimeAsync(final GetTimeRequest request) {
         return new FutureTask(new Callable<PlayFabResult<GetTimeResult>>() {
             public PlayFabResult<GetTimeResult> call() throws Exception {
-                return privateGetTimeAsync(request);
+                return privateGetTimeAsync(null, request);
             }
         });
     }
@@ -4004,7 +3941,7 @@ public class PlayFabClientAPI {
     public static PlayFabResult<GetTimeResult> GetTime(final GetTimeRequest request) {
         FutureTask<PlayFabResult<GetTimeResult>> task = new FutureTask(new Callable<PlayFabResult<GetTimeResult>>() {
             public PlayFabResult<GetTimeResult> call() throws Exception {
-                return privateGetTimeAsync(request);
+                return privateGetTimeAsync(null, request);
             }
         });
         try {
@@ -4019,10 +3956,11 @@ public class PlayFabClientAPI {
 
     /** Retrieves the current server time */
     @SuppressWarnings("unchecked")
-    private static PlayFabResult<GetTimeResult> privateGetTimeAsync(final GetTimeRequest request) throws Exception {
-        if (PlayFabSettings.ClientSessionTicket == null) throw new Exception ("Must be logged in to call this method");
+    static PlayFabResult<GetTimeResult> privateGetTimeAsync(final PlayFabInstanceAPI instance, final GetTimeRequest request) throws Exception {
+        final PlayFabApiContext context = PlayFabInstanceAPI.contextOf(instance);
+        if (context.getClientSessionTicket() == null) throw new Exception ("Must be logged in to call this method");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Client/GetTime"), request, "X-Authorization", PlayFabSettings.ClientSessionTicket);
+        FutureTask<Object> task = PlayFabHTTP.doPost(context.getURL("/Client/GetTime"), request, "X-Authorization", context.getClientSessionTicket(), GetTimeResult.class);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -4033,9 +3971,7 @@ public class PlayFabClientAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
-
-        PlayFabJsonSuccess<GetTimeResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<GetTimeResult>>(){}.getType());
+        PlayFabJsonSuccess<GetTimeResult> resultData = (PlayFabJsonSuccess<GetTimeResult>) httpResult;
         GetTimeResult result = resultData.data;
 
         PlayFabResult<GetTimeResult> pfResult = new PlayFabResult<GetTimeResult>();
@@ -4052,7 +3988,7 @@ public class PlayFabClientAPI {
     public static FutureTask<PlayFabResult<GetTitleDataResult>> GetTitleDataAsync(final GetTitleDataRequest request) {
         return new FutureTask(new Callable<PlayFabResult<GetTitleDataResult>>() {
             public PlayFabResult<GetTitleDataResult> call() throws Exception {
-                return privateGetTitleDataAsync(request);
+                return privateGetTitleDataAsync(null, request);
             }
         });
     }
@@ -4066,7 +4002,7 @@ public class PlayFabClientAPI {
     public static PlayFabResult<GetTitleDataResult> GetTitleData(final GetTitleDataRequest request) {
         FutureTask<PlayFabResult<GetTitleDataResult>> task = new FutureTask(new Callable<PlayFabResult<GetTitleDataResult>>() {
             public PlayFabResult<GetTitleDataResult> call() throws Exception {
-                return privateGetTitleDataAsync(request);
+                return privateGetTitleDataAsync(null, request);
             }
         });
         try {
@@ -4081,10 +4017,11 @@ public class PlayFabClientAPI {
 
     /** Retrieves the key-value store of custom title settings */
     @SuppressWarnings("unchecked")
-    private static PlayFabResult<GetTitleDataResult> privateGetTitleDataAsync(final GetTitleDataRequest request) throws Exception {
-        if (PlayFabSettings.ClientSessionTicket == null) throw new Exception ("Must be logged in to call this method");
+    static PlayFabResult<GetTitleDataResult> privateGetTitleDataAsync(final PlayFabInstanceAPI instance, final GetTitleDataRequest request) throws Exception {
+        final PlayFabApiContext context = PlayFabInstanceAPI.contextOf(instance);
+        if (context.getClientSessionTicket() == null) throw new Exception ("Must be logged in to call this method");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Client/GetTitleData"), request, "X-Authorization", PlayFabSettings.ClientSessionTicket);
+        FutureTask<Object> task = PlayFabHTTP.doPost(context.getURL("/Client/GetTitleData"), request, "X-Authorization", context.getClientSessionTicket(), GetTitleDataResult.class);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -4095,9 +4032,7 @@ public class PlayFabClientAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
-
-        PlayFabJsonSuccess<GetTitleDataResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<GetTitleDataResult>>(){}.getType());
+        PlayFabJsonSuccess<GetTitleDataResult> resultData = (PlayFabJsonSuccess<GetTitleDataResult>) httpResult;
         GetTitleDataResult result = resultData.data;
 
         PlayFabResult<GetTitleDataResult> pfResult = new PlayFabResult<GetTitleDataResult>();
@@ -4114,7 +4049,7 @@ public class PlayFabClientAPI {
     public static FutureTask<PlayFabResult<GetTitleNewsResult>> GetTitleNewsAsync(final GetTitleNewsRequest request) {
         return new FutureTask(new Callable<PlayFabResult<GetTitleNewsResult>>() {
             public PlayFabResult<GetTitleNewsResult> call() throws Exception {
-                return privateGetTitleNewsAsync(request);
+                return privateGetTitleNewsAsync(null, request);
             }
         });
     }
@@ -4128,7 +4063,7 @@ public class PlayFabClientAPI {
     public static PlayFabResult<GetTitleNewsResult> GetTitleNews(final GetTitleNewsRequest request) {
         FutureTask<PlayFabResult<GetTitleNewsResult>> task = new FutureTask(new Callable<PlayFabResult<GetTitleNewsResult>>() {
             public PlayFabResult<GetTitleNewsResult> call() throws Exception {
-                return privateGetTitleNewsAsync(request);
+                return privateGetTitleNewsAsync(null, request);
             }
         });
         try {
@@ -4143,10 +4078,11 @@ public class PlayFabClientAPI {
 
     /** Retrieves the title news feed, as configured in the developer portal */
     @SuppressWarnings("unchecked")
-    private static PlayFabResult<GetTitleNewsResult> privateGetTitleNewsAsync(final GetTitleNewsRequest request) throws Exception {
-        if (PlayFabSettings.ClientSessionTicket == null) throw new Exception ("Must be logged in to call this method");
+    static PlayFabResult<GetTitleNewsResult> privateGetTitleNewsAsync(final PlayFabInstanceAPI instance, final GetTitleNewsRequest request) throws Exception {
+        final PlayFabApiContext context = PlayFabInstanceAPI.contextOf(instance);
+        if (context.getClientSessionTicket() == null) throw new Exception ("Must be logged in to call this method");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Client/GetTitleNews"), request, "X-Authorization", PlayFabSettings.ClientSessionTicket);
+        FutureTask<Object> task = PlayFabHTTP.doPost(context.getURL("/Client/GetTitleNews"), request, "X-Authorization", context.getClientSessionTicket(), GetTitleNewsResult.class);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -4157,9 +4093,7 @@ public class PlayFabClientAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
-
-        PlayFabJsonSuccess<GetTitleNewsResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<GetTitleNewsResult>>(){}.getType());
+        PlayFabJsonSuccess<GetTitleNewsResult> resultData = (PlayFabJsonSuccess<GetTitleNewsResult>) httpResult;
         GetTitleNewsResult result = resultData.data;
 
         PlayFabResult<GetTitleNewsResult> pfResult = new PlayFabResult<GetTitleNewsResult>();
@@ -4176,7 +4110,7 @@ public class PlayFabClientAPI {
     public static FutureTask<PlayFabResult<GetTitlePublicKeyResult>> GetTitlePublicKeyAsync(final GetTitlePublicKeyRequest request) {
         return new FutureTask(new Callable<PlayFabResult<GetTitlePublicKeyResult>>() {
             public PlayFabResult<GetTitlePublicKeyResult> call() throws Exception {
-                return privateGetTitlePublicKeyAsync(request);
+                return privateGetTitlePublicKeyAsync(null, request);
             }
         });
     }
@@ -4190,7 +4124,7 @@ public class PlayFabClientAPI {
     public static PlayFabResult<GetTitlePublicKeyResult> GetTitlePublicKey(final GetTitlePublicKeyRequest request) {
         FutureTask<PlayFabResult<GetTitlePublicKeyResult>> task = new FutureTask(new Callable<PlayFabResult<GetTitlePublicKeyResult>>() {
             public PlayFabResult<GetTitlePublicKeyResult> call() throws Exception {
-                return privateGetTitlePublicKeyAsync(request);
+                return privateGetTitlePublicKeyAsync(null, request);
             }
         });
         try {
@@ -4205,9 +4139,10 @@ public class PlayFabClientAPI {
 
     /** Returns the title's base 64 encoded RSA CSP blob. */
     @SuppressWarnings("unchecked")
-    private static PlayFabResult<GetTitlePublicKeyResult> privateGetTitlePublicKeyAsync(final GetTitlePublicKeyRequest request) throws Exception {
+    static PlayFabResult<GetTitlePublicKeyResult> privateGetTitlePublicKeyAsync(final PlayFabInstanceAPI instance, final GetTitlePublicKeyRequest request) throws Exception {
+        final PlayFabApiContext context = PlayFabInstanceAPI.contextOf(instance);
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Client/GetTitlePublicKey"), request, null, null);
+        FutureTask<Object> task = PlayFabHTTP.doPost(context.getURL("/Client/GetTitlePublicKey"), request, null, null, GetTitlePublicKeyResult.class);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -4218,9 +4153,7 @@ public class PlayFabClientAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
-
-        PlayFabJsonSuccess<GetTitlePublicKeyResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<GetTitlePublicKeyResult>>(){}.getType());
+        PlayFabJsonSuccess<GetTitlePublicKeyResult> resultData = (PlayFabJsonSuccess<GetTitlePublicKeyResult>) httpResult;
         GetTitlePublicKeyResult result = resultData.data;
 
         PlayFabResult<GetTitlePublicKeyResult> pfResult = new PlayFabResult<GetTitlePublicKeyResult>();
@@ -4237,7 +4170,7 @@ public class PlayFabClientAPI {
     public static FutureTask<PlayFabResult<GetTradeStatusResponse>> GetTradeStatusAsync(final GetTradeStatusRequest request) {
         return new FutureTask(new Callable<PlayFabResult<GetTradeStatusResponse>>() {
             public PlayFabResult<GetTradeStatusResponse> call() throws Exception {
-                return privateGetTradeStatusAsync(request);
+                return privateGetTradeStatusAsync(null, request);
             }
         });
     }
@@ -4251,7 +4184,7 @@ public class PlayFabClientAPI {
     public static PlayFabResult<GetTradeStatusResponse> GetTradeStatus(final GetTradeStatusRequest request) {
         FutureTask<PlayFabResult<GetTradeStatusResponse>> task = new FutureTask(new Callable<PlayFabResult<GetTradeStatusResponse>>() {
             public PlayFabResult<GetTradeStatusResponse> call() throws Exception {
-                return privateGetTradeStatusAsync(request);
+                return privateGetTradeStatusAsync(null, request);
             }
         });
         try {
@@ -4266,10 +4199,11 @@ public class PlayFabClientAPI {
 
     /** Gets the current status of an existing trade. */
     @SuppressWarnings("unchecked")
-    private static PlayFabResult<GetTradeStatusResponse> privateGetTradeStatusAsync(final GetTradeStatusRequest request) throws Exception {
-        if (PlayFabSettings.ClientSessionTicket == null) throw new Exception ("Must be logged in to call this method");
+    static PlayFabResult<GetTradeStatusResponse> privateGetTradeStatusAsync(final PlayFabInstanceAPI instance, final GetTradeStatusRequest request) throws Exception {
+        final PlayFabApiContext context = PlayFabInstanceAPI.contextOf(instance);
+        if (context.getClientSessionTicket() == null) throw new Exception ("Must be logged in to call this method");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Client/GetTradeStatus"), request, "X-Authorization", PlayFabSettings.ClientSessionTicket);
+        FutureTask<Object> task = PlayFabHTTP.doPost(context.getURL("/Client/GetTradeStatus"), request, "X-Authorization", context.getClientSessionTicket(), GetTradeStatusResponse.class);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -4280,9 +4214,7 @@ public class PlayFabClientAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
-
-        PlayFabJsonSuccess<GetTradeStatusResponse> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<GetTradeStatusResponse>>(){}.getType());
+        PlayFabJsonSuccess<GetTradeStatusResponse> resultData = (PlayFabJsonSuccess<GetTradeStatusResponse>) httpResult;
         GetTradeStatusResponse result = resultData.data;
 
         PlayFabResult<GetTradeStatusResponse> pfResult = new PlayFabResult<GetTradeStatusResponse>();
@@ -4299,7 +4231,7 @@ public class PlayFabClientAPI {
     public static FutureTask<PlayFabResult<GetUserDataResult>> GetUserDataAsync(final GetUserDataRequest request) {
         return new FutureTask(new Callable<PlayFabResult<GetUserDataResult>>() {
             public PlayFabResult<GetUserDataResult> call() throws Exception {
-                return privateGetUserDataAsync(request);
+                return privateGetUserDataAsync(null, request);
             }
         });
     }
@@ -4313,7 +4245,7 @@ public class PlayFabClientAPI {
     public static PlayFabResult<GetUserDataResult> GetUserData(final GetUserDataRequest request) {
         FutureTask<PlayFabResult<GetUserDataResult>> task = new FutureTask(new Callable<PlayFabResult<GetUserDataResult>>() {
             public PlayFabResult<GetUserDataResult> call() throws Exception {
-                return privateGetUserDataAsync(request);
+                return privateGetUserDataAsync(null, request);
             }
         });
         try {
@@ -4328,10 +4260,11 @@ public class PlayFabClientAPI {
 
     /** Retrieves the title-specific custom data for the user which is readable and writable by the client */
     @SuppressWarnings("unchecked")
-    private static PlayFabResult<GetUserDataResult> privateGetUserDataAsync(final GetUserDataRequest request) throws Exception {
-        if (PlayFabSettings.ClientSessionTicket == null) throw new Exception ("Must be logged in to call this method");
+    static PlayFabResult<GetUserDataResult> privateGetUserDataAsync(final PlayFabInstanceAPI instance, final GetUserDataRequest request) throws Exception {
+        final PlayFabApiContext context = PlayFabInstanceAPI.contextOf(instance);
+        if (context.getClientSessionTicket() == null) throw new Exception ("Must be logged in to call this method");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Client/GetUserData"), request, "X-Authorization", PlayFabSettings.ClientSessionTicket);
+        FutureTask<Object> task = PlayFabHTTP.doPost(context.getURL("/Client/GetUserData"), request, "X-Authorization", context.getClientSessionTicket(), GetUserDataResult.class);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -4342,9 +4275,7 @@ public class PlayFabClientAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
-
-        PlayFabJsonSuccess<GetUserDataResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<GetUserDataResult>>(){}.getType());
+        PlayFabJsonSuccess<GetUserDataResult> resultData = (PlayFabJsonSuccess<GetUserDataResult>) httpResult;
         GetUserDataResult result = resultData.data;
 
         PlayFabResult<GetUserDataResult> pfResult = new PlayFabResult<GetUserDataResult>();
@@ -4361,7 +4292,7 @@ public class PlayFabClientAPI {
     public static FutureTask<PlayFabResult<GetUserInventoryResult>> GetUserInventoryAsync(final GetUserInventoryRequest request) {
         return new FutureTask(new Callable<PlayFabResult<GetUserInventoryResult>>() {
             public PlayFabResult<GetUserInventoryResult> call() throws Exception {
-                return privateGetUserInventoryAsync(request);
+                return privateGetUserInventoryAsync(null, request);
             }
         });
     }
@@ -4375,7 +4306,7 @@ public class PlayFabClientAPI {
     public static PlayFabResult<GetUserInventoryResult> GetUserInventory(final GetUserInventoryRequest request) {
         FutureTask<PlayFabResult<GetUserInventoryResult>> task = new FutureTask(new Callable<PlayFabResult<GetUserInventoryResult>>() {
             public PlayFabResult<GetUserInventoryResult> call() throws Exception {
-                return privateGetUserInventoryAsync(request);
+                return privateGetUserInventoryAsync(null, request);
             }
         });
         try {
@@ -4390,10 +4321,11 @@ public class PlayFabClientAPI {
 
     /** Retrieves the user's current inventory of virtual goods */
     @SuppressWarnings("unchecked")
-    private static PlayFabResult<GetUserInventoryResult> privateGetUserInventoryAsync(final GetUserInventoryRequest request) throws Exception {
-        if (PlayFabSettings.ClientSessionTicket == null) throw new Exception ("Must be logged in to call this method");
+    static PlayFabResult<GetUserInventoryResult> privateGetUserInventoryAsync(final PlayFabInstanceAPI instance, final GetUserInventoryRequest request) throws Exception {
+        final PlayFabApiContext context = PlayFabInstanceAPI.contextOf(instance);
+        if (context.getClientSessionTicket() == null) throw new Exception ("Must be logged in to call this method");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Client/GetUserInventory"), request, "X-Authorization", PlayFabSettings.ClientSessionTicket);
+        FutureTask<Object> task = PlayFabHTTP.doPost(context.getURL("/Client/GetUserInventory"), request, "X-Authorization", context.getClientSessionTicket(), GetUserInventoryResult.class);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -4404,9 +4336,7 @@ public class PlayFabClientAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
-
-        PlayFabJsonSuccess<GetUserInventoryResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<GetUserInventoryResult>>(){}.getType());
+        PlayFabJsonSuccess<GetUserInventoryResult> resultData = (PlayFabJsonSuccess<GetUserInventoryResult>) httpResult;
         GetUserInventoryResult result = resultData.data;
 
         PlayFabResult<GetUserInventoryResult> pfResult = new PlayFabResult<GetUserInventoryResult>();
@@ -4423,7 +4353,7 @@ public class PlayFabClientAPI {
     public static FutureTask<PlayFabResult<GetUserDataResult>> GetUserPublisherDataAsync(final GetUserDataRequest request) {
         return new FutureTask(new Callable<PlayFabResult<GetUserDataResult>>() {
             public PlayFabResult<GetUserDataResult> call() throws Exception {
-                return privateGetUserPublisherDataAsync(request);
+                return privateGetUserPublisherDataAsync(null, request);
             }
         });
     }
@@ -4437,7 +4367,7 @@ public class PlayFabClientAPI {
     public static PlayFabResult<GetUserDataResult> GetUserPublisherData(final GetUserDataRequest request) {
         FutureTask<PlayFabResult<GetUserDataResult>> task = new FutureTask(new Callable<PlayFabResult<GetUserDataResult>>() {
             public PlayFabResult<GetUserDataResult> call() throws Exception {
-                return privateGetUserPublisherDataAsync(request);
+                return privateGetUserPublisherDataAsync(null, request);
             }
         });
         try {
@@ -4452,10 +4382,11 @@ public class PlayFabClientAPI {
 
     /** Retrieves the publisher-specific custom data for the user which is readable and writable by the client */
     @SuppressWarnings("unchecked")
-    private static PlayFabResult<GetUserDataResult> privateGetUserPublisherDataAsync(final GetUserDataRequest request) throws Exception {
-        if (PlayFabSettings.ClientSessionTicket == null) throw new Exception ("Must be logged in to call this method");
+    static PlayFabResult<GetUserDataResult> privateGetUserPublisherDataAsync(final PlayFabInstanceAPI instance, final GetUserDataRequest request) throws Exception {
+        final PlayFabApiContext context = PlayFabInstanceAPI.contextOf(instance);
+        if (context.getClientSessionTicket() == null) throw new Exception ("Must be logged in to call this method");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Client/GetUserPublisherData"), request, "X-Authorization", PlayFabSettings.ClientSessionTicket);
+        FutureTask<Object> task = PlayFabHTTP.doPost(context.getURL("/Client/GetUserPublisherData"), request, "X-Authorization", context.getClientSessionTicket(), GetUserDataResult.class);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -4466,9 +4397,7 @@ public class PlayFabClientAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
-
-        PlayFabJsonSuccess<GetUserDataResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<GetUserDataResult>>(){}.getType());
+        PlayFabJsonSuccess<GetUserDataResult> resultData = (PlayFabJsonSuccess<GetUserDataResult>) httpResult;
         GetUserDataResult result = resultData.data;
 
         PlayFabResult<GetUserDataResult> pfResult = new PlayFabResult<GetUserDataResult>();
@@ -4485,7 +4414,7 @@ public class PlayFabClientAPI {
     public static FutureTask<PlayFabResult<GetUserDataResult>> GetUserPublisherReadOnlyDataAsync(final GetUserDataRequest request) {
         return new FutureTask(new Callable<PlayFabResult<GetUserDataResult>>() {
             public PlayFabResult<GetUserDataResult> call() throws Exception {
-                return privateGetUserPublisherReadOnlyDataAsync(request);
+                return privateGetUserPublisherReadOnlyDataAsync(null, request);
             }
         });
     }
@@ -4499,7 +4428,7 @@ public class PlayFabClientAPI {
     public static PlayFabResult<GetUserDataResult> GetUserPublisherReadOnlyData(final GetUserDataRequest request) {
         FutureTask<PlayFabResult<GetUserDataResult>> task = new FutureTask(new Callable<PlayFabResult<GetUserDataResult>>() {
             public PlayFabResult<GetUserDataResult> call() throws Exception {
-                return privateGetUserPublisherReadOnlyDataAsync(request);
+                return privateGetUserPublisherReadOnlyDataAsync(null, request);
             }
         });
         try {
@@ -4514,10 +4443,11 @@ public class PlayFabClientAPI {
 
     /** Retrieves the publisher-specific custom data for the user which can only be read by the client */
     @SuppressWarnings("unchecked")
-    private static PlayFabResult<GetUserDataResult> privateGetUserPublisherReadOnlyDataAsync(final GetUserDataRequest request) throws Exception {
-        if (PlayFabSettings.ClientSessionTicket == null) throw new Exception ("Must be logged in to call this method");
+    static PlayFabResult<GetUserDataResult> privateGetUserPublisherReadOnlyDataAsync(final PlayFabInstanceAPI instance, final GetUserDataRequest request) throws Exception {
+        final PlayFabApiContext context = PlayFabInstanceAPI.contextOf(instance);
+        if (context.getClientSessionTicket() == null) throw new Exception ("Must be logged in to call this method");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Client/GetUserPublisherReadOnlyData"), request, "X-Authorization", PlayFabSettings.ClientSessionTicket);
+        FutureTask<Object> task = PlayFabHTTP.doPost(context.getURL("/Client/GetUserPublisherReadOnlyData"), request, "X-Authorization", context.getClientSessionTicket(), GetUserDataResult.class);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -4528,9 +4458,7 @@ public class PlayFabClientAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
-
-        PlayFabJsonSuccess<GetUserDataResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<GetUserDataResult>>(){}.getType());
+        PlayFabJsonSuccess<GetUserDataResult> resultData = (PlayFabJsonSuccess<GetUserDataResult>) httpResult;
         GetUserDataResult result = resultData.data;
 
         PlayFabResult<GetUserDataResult> pfResult = new PlayFabResult<GetUserDataResult>();
@@ -4547,7 +4475,7 @@ public class PlayFabClientAPI {
     public static FutureTask<PlayFabResult<GetUserDataResult>> GetUserReadOnlyDataAsync(final GetUserDataRequest request) {
         return new FutureTask(new Callable<PlayFabResult<GetUserDataResult>>() {
             public PlayFabResult<GetUserDataResult> call() throws Exception {
-                return privateGetUserReadOnlyDataAsync(request);
+                return privateGetUserReadOnlyDataAsync(null, request);
             }
         });
     }
@@ -4561,7 +4489,7 @@ public class PlayFabClientAPI {
     public static PlayFabResult<GetUserDataResult> GetUserReadOnlyData(final GetUserDataRequest request) {
         FutureTask<PlayFabResult<GetUserDataResult>> task = new FutureTask(new Callable<PlayFabResult<GetUserDataResult>>() {
             public PlayFabResult<GetUserDataResult> call() throws Exception {
-                return privateGetUserReadOnlyDataAsync(request);
+                return privateGetUserReadOnlyDataAsync(null, request);
             }
         });
         try {
@@ -4576,10 +4504,11 @@ public class PlayFabClientAPI {
 
     /** Retrieves the title-specific custom data for the user which can only be read by the client */
     @SuppressWarnings("unchecked")
-    private static PlayFabResult<GetUserDataResult> privateGetUserReadOnlyDataAsync(final GetUserDataRequest request) throws Exception {
-        if (PlayFabSettings.ClientSessionTicket == null) throw new Exception ("Must be logged in to call this method");
+    static PlayFabResult<GetUserDataResult> privateGetUserReadOnlyDataAsync(final PlayFabInstanceAPI instance, final GetUserDataRequest request) throws Exception {
+        final PlayFabApiContext context = PlayFabInstanceAPI.contextOf(instance);
+        if (context.getClientSessionTicket() == null) throw new Exception ("Must be logged in to call this method");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Client/GetUserReadOnlyData"), request, "X-Authorization", PlayFabSettings.ClientSessionTicket);
+        FutureTask<Object> task = PlayFabHTTP.doPost(context.getURL("/Client/GetUserReadOnlyData"), request, "X-Authorization", context.getClientSessionTicket(), GetUserDataResult.class);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -4590,9 +4519,7 @@ public class PlayFabClientAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
-
-        PlayFabJsonSuccess<GetUserDataResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<GetUserDataResult>>(){}.getType());
+        PlayFabJsonSuccess<GetUserDataResult> resultData = (PlayFabJsonSuccess<GetUserDataResult>) httpResult;
         GetUserDataResult result = resultData.data;
 
         PlayFabResult<GetUserDataResult> pfResult = new PlayFabResult<GetUserDataResult>();
@@ -4610,7 +4537,7 @@ public class PlayFabClientAPI {
     public static FutureTask<PlayFabResult<GrantCharacterToUserResult>> GrantCharacterToUserAsync(final GrantCharacterToUserRequest request) {
         return new FutureTask(new Callable<PlayFabResult<GrantCharacterToUserResult>>() {
             public PlayFabResult<GrantCharacterToUserResult> call() throws Exception {
-                return privateGrantCharacterToUserAsync(request);
+                return privateGrantCharacterToUserAsync(null, request);
             }
         });
     }
@@ -4625,7 +4552,7 @@ public class PlayFabClientAPI {
     public static PlayFabResult<GrantCharacterToUserResult> GrantCharacterToUser(final GrantCharacterToUserRequest request) {
         FutureTask<PlayFabResult<GrantCharacterToUserResult>> task = new FutureTask(new Callable<PlayFabResult<GrantCharacterToUserResult>>() {
             public PlayFabResult<GrantCharacterToUserResult> call() throws Exception {
-                return privateGrantCharacterToUserAsync(request);
+                return privateGrantCharacterToUserAsync(null, request);
             }
         });
         try {
@@ -4643,10 +4570,11 @@ public class PlayFabClientAPI {
      * with the parent PlayFabId to guarantee uniqueness.
      */
     @SuppressWarnings("unchecked")
-    private static PlayFabResult<GrantCharacterToUserResult> privateGrantCharacterToUserAsync(final GrantCharacterToUserRequest request) throws Exception {
-        if (PlayFabSettings.ClientSessionTicket == null) throw new Exception ("Must be logged in to call this method");
+    static PlayFabResult<GrantCharacterToUserResult> privateGrantCharacterToUserAsync(final PlayFabInstanceAPI instance, final GrantCharacterToUserRequest request) throws Exception {
+        final PlayFabApiContext context = PlayFabInstanceAPI.contextOf(instance);
+        if (context.getClientSessionTicket() == null) throw new Exception ("Must be logged in to call this method");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Client/GrantCharacterToUser"), request, "X-Authorization", PlayFabSettings.ClientSessionTicket);
+        FutureTask<Object> task = PlayFabHTTP.doPost(context.getURL("/Client/GrantCharacterToUser"), request, "X-Authorization", context.getClientSessionTicket(), GrantCharacterToUserResult.class);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -4657,9 +4585,7 @@ public class PlayFabClientAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
-
-        PlayFabJsonSuccess<GrantCharacterToUserResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<GrantCharacterToUserResult>>(){}.getType());
+        PlayFabJsonSuccess<GrantCharacterToUserResult> resultData = (PlayFabJsonSuccess<GrantCharacterToUserResult>) httpResult;
         GrantCharacterToUserResult result = resultData.data;
 
         PlayFabResult<GrantCharacterToUserResult> pfResult = new PlayFabResult<GrantCharacterToUserResult>();
@@ -4676,7 +4602,7 @@ public class PlayFabClientAPI {
     public static FutureTask<PlayFabResult<LinkAndroidDeviceIDResult>> LinkAndroidDeviceIDAsync(final LinkAndroidDeviceIDRequest request) {
         return new FutureTask(new Callable<PlayFabResult<LinkAndroidDeviceIDResult>>() {
             public PlayFabResult<LinkAndroidDeviceIDResult> call() throws Exception {
-                return privateLinkAndroidDeviceIDAsync(request);
+                return privateLinkAndroidDeviceIDAsync(null, request);
             }
         });
     }
@@ -4690,7 +4616,7 @@ public class PlayFabClientAPI {
     public static PlayFabResult<LinkAndroidDeviceIDResult> LinkAndroidDeviceID(final LinkAndroidDeviceIDRequest request) {
         FutureTask<PlayFabResult<LinkAndroidDeviceIDResult>> task = new FutureTask(new Callable<PlayFabResult<LinkAndroidDeviceIDResult>>() {
             public PlayFabResult<LinkAndroidDeviceIDResult> call() throws Exception {
-                return privateLinkAndroidDeviceIDAsync(request);
+                return privateLinkAndroidDeviceIDAsync(null, request);
             }
         });
         try {
@@ -4705,10 +4631,11 @@ public class PlayFabClientAPI {
 
     /** Links the Android device identifier to the user's PlayFab account */
     @SuppressWarnings("unchecked")
-    private static PlayFabResult<LinkAndroidDeviceIDResult> privateLinkAndroidDeviceIDAsync(final LinkAndroidDeviceIDRequest request) throws Exception {
-        if (PlayFabSettings.ClientSessionTicket == null) throw new Exception ("Must be logged in to call this method");
+    static PlayFabResult<LinkAndroidDeviceIDResult> privateLinkAndroidDeviceIDAsync(final PlayFabInstanceAPI instance, final LinkAndroidDeviceIDRequest request) throws Exception {
+        final PlayFabApiContext context = PlayFabInstanceAPI.contextOf(instance);
+        if (context.getClientSessionTicket() == null) throw new Exception ("Must be logged in to call this method");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Client/LinkAndroidDeviceID"), request, "X-Authorization", PlayFabSettings.ClientSessionTicket);
+        FutureTask<Object> task = PlayFabHTTP.doPost(context.getURL("/Client/LinkAndroidDeviceID"), request, "X-Authorization", context.getClientSessionTicket(), LinkAndroidDeviceIDResult.class);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -4719,9 +4646,7 @@ public class PlayFabClientAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
-
-        PlayFabJsonSuccess<LinkAndroidDeviceIDResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<LinkAndroidDeviceIDResult>>(){}.getType());
+        PlayFabJsonSuccess<LinkAndroidDeviceIDResult> resultData = (PlayFabJsonSuccess<LinkAndroidDeviceIDResult>) httpResult;
         LinkAndroidDeviceIDResult result = resultData.data;
 
         PlayFabResult<LinkAndroidDeviceIDResult> pfResult = new PlayFabResult<LinkAndroidDeviceIDResult>();
@@ -4738,7 +4663,7 @@ public class PlayFabClientAPI {
     public static FutureTask<PlayFabResult<EmptyResult>> LinkAppleAsync(final LinkAppleRequest request) {
         return new FutureTask(new Callable<PlayFabResult<EmptyResult>>() {
             public PlayFabResult<EmptyResult> call() throws Exception {
-                return privateLinkAppleAsync(request);
+                return privateLinkAppleAsync(null, request);
             }
         });
     }
@@ -4752,7 +4677,7 @@ public class PlayFabClientAPI {
     public static PlayFabResult<EmptyResult> LinkApple(final LinkAppleRequest request) {
         FutureTask<PlayFabResult<EmptyResult>> task = new FutureTask(new Callable<PlayFabResult<EmptyResult>>() {
             public PlayFabResult<EmptyResult> call() throws Exception {
-                return privateLinkAppleAsync(request);
+                return privateLinkAppleAsync(null, request);
             }
         });
         try {
@@ -4767,10 +4692,11 @@ public class PlayFabClientAPI {
 
     /** Links the Apple account associated with the token to the user's PlayFab account. */
     @SuppressWarnings("unchecked")
-    private static PlayFabResult<EmptyResult> privateLinkAppleAsync(final LinkAppleRequest request) throws Exception {
-        if (PlayFabSettings.ClientSessionTicket == null) throw new Exception ("Must be logged in to call this method");
+    static PlayFabResult<EmptyResult> privateLinkAppleAsync(final PlayFabInstanceAPI instance, final LinkAppleRequest request) throws Exception {
+        final PlayFabApiContext context = PlayFabInstanceAPI.contextOf(instance);
+        if (context.getClientSessionTicket() == null) throw new Exception ("Must be logged in to call this method");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Client/LinkApple"), request, "X-Authorization", PlayFabSettings.ClientSessionTicket);
+        FutureTask<Object> task = PlayFabHTTP.doPost(context.getURL("/Client/LinkApple"), request, "X-Authorization", context.getClientSessionTicket(), EmptyResult.class);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -4781,9 +4707,7 @@ public class PlayFabClientAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
-
-        PlayFabJsonSuccess<EmptyResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<EmptyResult>>(){}.getType());
+        PlayFabJsonSuccess<EmptyResult> resultData = (PlayFabJsonSuccess<EmptyResult>) httpResult;
         EmptyResult result = resultData.data;
 
         PlayFabResult<EmptyResult> pfResult = new PlayFabResult<EmptyResult>();
@@ -4800,7 +4724,7 @@ public class PlayFabClientAPI {
     public static FutureTask<PlayFabResult<LinkCustomIDResult>> LinkCustomIDAsync(final LinkCustomIDRequest request) {
         return new FutureTask(new Callable<PlayFabResult<LinkCustomIDResult>>() {
             public PlayFabResult<LinkCustomIDResult> call() throws Exception {
-                return privateLinkCustomIDAsync(request);
+                return privateLinkCustomIDAsync(null, request);
             }
         });
     }
@@ -4814,7 +4738,7 @@ public class PlayFabClientAPI {
     public static PlayFabResult<LinkCustomIDResult> LinkCustomID(final LinkCustomIDRequest request) {
         FutureTask<PlayFabResult<LinkCustomIDResult>> task = new FutureTask(new Callable<PlayFabResult<LinkCustomIDResult>>() {
             public PlayFabResult<LinkCustomIDResult> call() throws Exception {
-                return privateLinkCustomIDAsync(request);
+                return privateLinkCustomIDAsync(null, request);
             }
         });
         try {
@@ -4829,10 +4753,11 @@ public class PlayFabClientAPI {
 
     /** Links the custom identifier, generated by the title, to the user's PlayFab account */
     @SuppressWarnings("unchecked")
-    private static PlayFabResult<LinkCustomIDResult> privateLinkCustomIDAsync(final LinkCustomIDRequest request) throws Exception {
-        if (PlayFabSettings.ClientSessionTicket == null) throw new Exception ("Must be logged in to call this method");
+    static PlayFabResult<LinkCustomIDResult> privateLinkCustomIDAsync(final PlayFabInstanceAPI instance, final LinkCustomIDRequest request) throws Exception {
+        final PlayFabApiContext context = PlayFabInstanceAPI.contextOf(instance);
+        if (context.getClientSessionTicket() == null) throw new Exception ("Must be logged in to call this method");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Client/LinkCustomID"), request, "X-Authorization", PlayFabSettings.ClientSessionTicket);
+        FutureTask<Object> task = PlayFabHTTP.doPost(context.getURL("/Client/LinkCustomID"), request, "X-Authorization", context.getClientSessionTicket(), LinkCustomIDResult.class);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -4843,9 +4768,7 @@ public class PlayFabClientAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
-
-        PlayFabJsonSuccess<LinkCustomIDResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<LinkCustomIDResult>>(){}.getType());
+        PlayFabJsonSuccess<LinkCustomIDResult> resultData = (PlayFabJsonSuccess<LinkCustomIDResult>) httpResult;
         LinkCustomIDResult result = resultData.data;
 
         PlayFabResult<LinkCustomIDResult> pfResult = new PlayFabResult<LinkCustomIDResult>();
@@ -4862,7 +4785,7 @@ public class PlayFabClientAPI {
     public static FutureTask<PlayFabResult<LinkFacebookAccountResult>> LinkFacebookAccountAsync(final LinkFacebookAccountRequest request) {
         return new FutureTask(new Callable<PlayFabResult<LinkFacebookAccountResult>>() {
             public PlayFabResult<LinkFacebookAccountResult> call() throws Exception {
-                return privateLinkFacebookAccountAsync(request);
+                return privateLinkFacebookAccountAsync(null, request);
             }
         });
     }
@@ -4876,7 +4799,7 @@ public class PlayFabClientAPI {
     public static PlayFabResult<LinkFacebookAccountResult> LinkFacebookAccount(final LinkFacebookAccountRequest request) {
         FutureTask<PlayFabResult<LinkFacebookAccountResult>> task = new FutureTask(new Callable<PlayFabResult<LinkFacebookAccountResult>>() {
             public PlayFabResult<LinkFacebookAccountResult> call() throws Exception {
-                return privateLinkFacebookAccountAsync(request);
+                return privateLinkFacebookAccountAsync(null, request);
             }
         });
         try {
@@ -4891,10 +4814,11 @@ public class PlayFabClientAPI {
 
     /** Links the Facebook account associated with the provided Facebook access token to the user's PlayFab account */
     @SuppressWarnings("unchecked")
-    private static PlayFabResult<LinkFacebookAccountResult> privateLinkFacebookAccountAsync(final LinkFacebookAccountRequest request) throws Exception {
-        if (PlayFabSettings.ClientSessionTicket == null) throw new Exception ("Must be logged in to call this method");
+    static PlayFabResult<LinkFacebookAccountResult> privateLinkFacebookAccountAsync(final PlayFabInstanceAPI instance, final LinkFacebookAccountRequest request) throws Exception {
+        final PlayFabApiContext context = PlayFabInstanceAPI.contextOf(instance);
+        if (context.getClientSessionTicket() == null) throw new Exception ("Must be logged in to call this method");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Client/LinkFacebookAccount"), request, "X-Authorization", PlayFabSettings.ClientSessionTicket);
+        FutureTask<Object> task = PlayFabHTTP.doPost(context.getURL("/Client/LinkFacebookAccount"), request, "X-Authorization", context.getClientSessionTicket(), LinkFacebookAccountResult.class);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -4905,9 +4829,7 @@ public class PlayFabClientAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
-
-        PlayFabJsonSuccess<LinkFacebookAccountResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<LinkFacebookAccountResult>>(){}.getType());
+        PlayFabJsonSuccess<LinkFacebookAccountResult> resultData = (PlayFabJsonSuccess<LinkFacebookAccountResult>) httpResult;
         LinkFacebookAccountResult result = resultData.data;
 
         PlayFabResult<LinkFacebookAccountResult> pfResult = new PlayFabResult<LinkFacebookAccountResult>();
@@ -4924,7 +4846,7 @@ public class PlayFabClientAPI {
     public static FutureTask<PlayFabResult<LinkFacebookInstantGamesIdResult>> LinkFacebookInstantGamesIdAsync(final LinkFacebookInstantGamesIdRequest request) {
         return new FutureTask(new Callable<PlayFabResult<LinkFacebookInstantGamesIdResult>>() {
             public PlayFabResult<LinkFacebookInstantGamesIdResult> call() throws Exception {
-                return privateLinkFacebookInstantGamesIdAsync(request);
+                return privateLinkFacebookInstantGamesIdAsync(null, request);
             }
         });
     }
@@ -4938,7 +4860,7 @@ public class PlayFabClientAPI {
     public static PlayFabResult<LinkFacebookInstantGamesIdResult> LinkFacebookInstantGamesId(final LinkFacebookInstantGamesIdRequest request) {
         FutureTask<PlayFabResult<LinkFacebookInstantGamesIdResult>> task = new FutureTask(new Callable<PlayFabResult<LinkFacebookInstantGamesIdResult>>() {
             public PlayFabResult<LinkFacebookInstantGamesIdResult> call() throws Exception {
-                return privateLinkFacebookInstantGamesIdAsync(request);
+                return privateLinkFacebookInstantGamesIdAsync(null, request);
             }
         });
         try {
@@ -4953,10 +4875,11 @@ public class PlayFabClientAPI {
 
     /** Links the Facebook Instant Games Id to the user's PlayFab account */
     @SuppressWarnings("unchecked")
-    private static PlayFabResult<LinkFacebookInstantGamesIdResult> privateLinkFacebookInstantGamesIdAsync(final LinkFacebookInstantGamesIdRequest request) throws Exception {
-        if (PlayFabSettings.ClientSessionTicket == null) throw new Exception ("Must be logged in to call this method");
+    static PlayFabResult<LinkFacebookInstantGamesIdResult> privateLinkFacebookInstantGamesIdAsync(final PlayFabInstanceAPI instance, final LinkFacebookInstantGamesIdRequest request) throws Exception {
+        final PlayFabApiContext context = PlayFabInstanceAPI.contextOf(instance);
+        if (context.getClientSessionTicket() == null) throw new Exception ("Must be logged in to call this method");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Client/LinkFacebookInstantGamesId"), request, "X-Authorization", PlayFabSettings.ClientSessionTicket);
+        FutureTask<Object> task = PlayFabHTTP.doPost(context.getURL("/Client/LinkFacebookInstantGamesId"), request, "X-Authorization", context.getClientSessionTicket(), LinkFacebookInstantGamesIdResult.class);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -4967,9 +4890,7 @@ public class PlayFabClientAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
-
-        PlayFabJsonSuccess<LinkFacebookInstantGamesIdResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<LinkFacebookInstantGamesIdResult>>(){}.getType());
+        PlayFabJsonSuccess<LinkFacebookInstantGamesIdResult> resultData = (PlayFabJsonSuccess<LinkFacebookInstantGamesIdResult>) httpResult;
         LinkFacebookInstantGamesIdResult result = resultData.data;
 
         PlayFabResult<LinkFacebookInstantGamesIdResult> pfResult = new PlayFabResult<LinkFacebookInstantGamesIdResult>();
@@ -4989,7 +4910,7 @@ public class PlayFabClientAPI {
     public static FutureTask<PlayFabResult<LinkGameCenterAccountResult>> LinkGameCenterAccountAsync(final LinkGameCenterAccountRequest request) {
         return new FutureTask(new Callable<PlayFabResult<LinkGameCenterAccountResult>>() {
             public PlayFabResult<LinkGameCenterAccountResult> call() throws Exception {
-                return privateLinkGameCenterAccountAsync(request);
+                return privateLinkGameCenterAccountAsync(null, request);
             }
         });
     }
@@ -5006,7 +4927,7 @@ public class PlayFabClientAPI {
     public static PlayFabResult<LinkGameCenterAccountResult> LinkGameCenterAccount(final LinkGameCenterAccountRequest request) {
         FutureTask<PlayFabResult<LinkGameCenterAccountResult>> task = new FutureTask(new Callable<PlayFabResult<LinkGameCenterAccountResult>>() {
             public PlayFabResult<LinkGameCenterAccountResult> call() throws Exception {
-                return privateLinkGameCenterAccountAsync(request);
+                return privateLinkGameCenterAccountAsync(null, request);
             }
         });
         try {
@@ -5026,10 +4947,11 @@ public class PlayFabClientAPI {
      * page in the PlayFab Game Manager and enabling the 'Require secure authentication only for this app' option.
      */
     @SuppressWarnings("unchecked")
-    private static PlayFabResult<LinkGameCenterAccountResult> privateLinkGameCenterAccountAsync(final LinkGameCenterAccountRequest request) throws Exception {
-        if (PlayFabSettings.ClientSessionTicket == null) throw new Exception ("Must be logged in to call this method");
+    static PlayFabResult<LinkGameCenterAccountResult> privateLinkGameCenterAccountAsync(final PlayFabInstanceAPI instance, final LinkGameCenterAccountRequest request) throws Exception {
+        final PlayFabApiContext context = PlayFabInstanceAPI.contextOf(instance);
+        if (context.getClientSessionTicket() == null) throw new Exception ("Must be logged in to call this method");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Client/LinkGameCenterAccount"), request, "X-Authorization", PlayFabSettings.ClientSessionTicket);
+        FutureTask<Object> task = PlayFabHTTP.doPost(context.getURL("/Client/LinkGameCenterAccount"), request, "X-Authorization", context.getClientSessionTicket(), LinkGameCenterAccountResult.class);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -5040,9 +4962,7 @@ public class PlayFabClientAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
-
-        PlayFabJsonSuccess<LinkGameCenterAccountResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<LinkGameCenterAccountResult>>(){}.getType());
+        PlayFabJsonSuccess<LinkGameCenterAccountResult> resultData = (PlayFabJsonSuccess<LinkGameCenterAccountResult>) httpResult;
         LinkGameCenterAccountResult result = resultData.data;
 
         PlayFabResult<LinkGameCenterAccountResult> pfResult = new PlayFabResult<LinkGameCenterAccountResult>();
@@ -5059,7 +4979,7 @@ public class PlayFabClientAPI {
     public static FutureTask<PlayFabResult<LinkGoogleAccountResult>> LinkGoogleAccountAsync(final LinkGoogleAccountRequest request) {
         return new FutureTask(new Callable<PlayFabResult<LinkGoogleAccountResult>>() {
             public PlayFabResult<LinkGoogleAccountResult> call() throws Exception {
-                return privateLinkGoogleAccountAsync(request);
+                return privateLinkGoogleAccountAsync(null, request);
             }
         });
     }
@@ -5073,7 +4993,7 @@ public class PlayFabClientAPI {
     public static PlayFabResult<LinkGoogleAccountResult> LinkGoogleAccount(final LinkGoogleAccountRequest request) {
         FutureTask<PlayFabResult<LinkGoogleAccountResult>> task = new FutureTask(new Callable<PlayFabResult<LinkGoogleAccountResult>>() {
             public PlayFabResult<LinkGoogleAccountResult> call() throws Exception {
-                return privateLinkGoogleAccountAsync(request);
+                return privateLinkGoogleAccountAsync(null, request);
             }
         });
         try {
@@ -5088,10 +5008,11 @@ public class PlayFabClientAPI {
 
     /** Links the currently signed-in user account to their Google account, using their Google account credentials */
     @SuppressWarnings("unchecked")
-    private static PlayFabResult<LinkGoogleAccountResult> privateLinkGoogleAccountAsync(final LinkGoogleAccountRequest request) throws Exception {
-        if (PlayFabSettings.ClientSessionTicket == null) throw new Exception ("Must be logged in to call this method");
+    static PlayFabResult<LinkGoogleAccountResult> privateLinkGoogleAccountAsync(final PlayFabInstanceAPI instance, final LinkGoogleAccountRequest request) throws Exception {
+        final PlayFabApiContext context = PlayFabInstanceAPI.contextOf(instance);
+        if (context.getClientSessionTicket() == null) throw new Exception ("Must be logged in to call this method");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Client/LinkGoogleAccount"), request, "X-Authorization", PlayFabSettings.ClientSessionTicket);
+        FutureTask<Object> task = PlayFabHTTP.doPost(context.getURL("/Client/LinkGoogleAccount"), request, "X-Authorization", context.getClientSessionTicket(), LinkGoogleAccountResult.class);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -5102,9 +5023,7 @@ public class PlayFabClientAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
-
-        PlayFabJsonSuccess<LinkGoogleAccountResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<LinkGoogleAccountResult>>(){}.getType());
+        PlayFabJsonSuccess<LinkGoogleAccountResult> resultData = (PlayFabJsonSuccess<LinkGoogleAccountResult>) httpResult;
         LinkGoogleAccountResult result = resultData.data;
 
         PlayFabResult<LinkGoogleAccountResult> pfResult = new PlayFabResult<LinkGoogleAccountResult>();
@@ -5121,7 +5040,7 @@ public class PlayFabClientAPI {
     public static FutureTask<PlayFabResult<LinkIOSDeviceIDResult>> LinkIOSDeviceIDAsync(final LinkIOSDeviceIDRequest request) {
         return new FutureTask(new Callable<PlayFabResult<LinkIOSDeviceIDResult>>() {
             public PlayFabResult<LinkIOSDeviceIDResult> call() throws Exception {
-                return privateLinkIOSDeviceIDAsync(request);
+                return privateLinkIOSDeviceIDAsync(null, request);
             }
         });
     }
@@ -5135,7 +5054,7 @@ public class PlayFabClientAPI {
     public static PlayFabResult<LinkIOSDeviceIDResult> LinkIOSDeviceID(final LinkIOSDeviceIDRequest request) {
         FutureTask<PlayFabResult<LinkIOSDeviceIDResult>> task = new FutureTask(new Callable<PlayFabResult<LinkIOSDeviceIDResult>>() {
             public PlayFabResult<LinkIOSDeviceIDResult> call() throws Exception {
-                return privateLinkIOSDeviceIDAsync(request);
+                return privateLinkIOSDeviceIDAsync(null, request);
             }
         });
         try {
@@ -5150,10 +5069,11 @@ public class PlayFabClientAPI {
 
     /** Links the vendor-specific iOS device identifier to the user's PlayFab account */
     @SuppressWarnings("unchecked")
-    private static PlayFabResult<LinkIOSDeviceIDResult> privateLinkIOSDeviceIDAsync(final LinkIOSDeviceIDRequest request) throws Exception {
-        if (PlayFabSettings.ClientSessionTicket == null) throw new Exception ("Must be logged in to call this method");
+    static PlayFabResult<LinkIOSDeviceIDResult> privateLinkIOSDeviceIDAsync(final PlayFabInstanceAPI instance, final LinkIOSDeviceIDRequest request) throws Exception {
+        final PlayFabApiContext context = PlayFabInstanceAPI.contextOf(instance);
+        if (context.getClientSessionTicket() == null) throw new Exception ("Must be logged in to call this method");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Client/LinkIOSDeviceID"), request, "X-Authorization", PlayFabSettings.ClientSessionTicket);
+        FutureTask<Object> task = PlayFabHTTP.doPost(context.getURL("/Client/LinkIOSDeviceID"), request, "X-Authorization", context.getClientSessionTicket(), LinkIOSDeviceIDResult.class);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -5164,9 +5084,7 @@ public class PlayFabClientAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
-
-        PlayFabJsonSuccess<LinkIOSDeviceIDResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<LinkIOSDeviceIDResult>>(){}.getType());
+        PlayFabJsonSuccess<LinkIOSDeviceIDResult> resultData = (PlayFabJsonSuccess<LinkIOSDeviceIDResult>) httpResult;
         LinkIOSDeviceIDResult result = resultData.data;
 
         PlayFabResult<LinkIOSDeviceIDResult> pfResult = new PlayFabResult<LinkIOSDeviceIDResult>();
@@ -5183,7 +5101,7 @@ public class PlayFabClientAPI {
     public static FutureTask<PlayFabResult<LinkKongregateAccountResult>> LinkKongregateAsync(final LinkKongregateAccountRequest request) {
         return new FutureTask(new Callable<PlayFabResult<LinkKongregateAccountResult>>() {
             public PlayFabResult<LinkKongregateAccountResult> call() throws Exception {
-                return privateLinkKongregateAsync(request);
+                return privateLinkKongregateAsync(null, request);
             }
         });
     }
@@ -5197,7 +5115,7 @@ public class PlayFabClientAPI {
     public static PlayFabResult<LinkKongregateAccountResult> LinkKongregate(final LinkKongregateAccountRequest request) {
         FutureTask<PlayFabResult<LinkKongregateAccountResult>> task = new FutureTask(new Callable<PlayFabResult<LinkKongregateAccountResult>>() {
             public PlayFabResult<LinkKongregateAccountResult> call() throws Exception {
-                return privateLinkKongregateAsync(request);
+                return privateLinkKongregateAsync(null, request);
             }
         });
         try {
@@ -5212,10 +5130,11 @@ public class PlayFabClientAPI {
 
     /** Links the Kongregate identifier to the user's PlayFab account */
     @SuppressWarnings("unchecked")
-    private static PlayFabResult<LinkKongregateAccountResult> privateLinkKongregateAsync(final LinkKongregateAccountRequest request) throws Exception {
-        if (PlayFabSettings.ClientSessionTicket == null) throw new Exception ("Must be logged in to call this method");
+    static PlayFabResult<LinkKongregateAccountResult> privateLinkKongregateAsync(final PlayFabInstanceAPI instance, final LinkKongregateAccountRequest request) throws Exception {
+        final PlayFabApiContext context = PlayFabInstanceAPI.contextOf(instance);
+        if (context.getClientSessionTicket() == null) throw new Exception ("Must be logged in to call this method");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Client/LinkKongregate"), request, "X-Authorization", PlayFabSettings.ClientSessionTicket);
+        FutureTask<Object> task = PlayFabHTTP.doPost(context.getURL("/Client/LinkKongregate"), request, "X-Authorization", context.getClientSessionTicket(), LinkKongregateAccountResult.class);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -5226,9 +5145,7 @@ public class PlayFabClientAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
-
-        PlayFabJsonSuccess<LinkKongregateAccountResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<LinkKongregateAccountResult>>(){}.getType());
+        PlayFabJsonSuccess<LinkKongregateAccountResult> resultData = (PlayFabJsonSuccess<LinkKongregateAccountResult>) httpResult;
         LinkKongregateAccountResult result = resultData.data;
 
         PlayFabResult<LinkKongregateAccountResult> pfResult = new PlayFabResult<LinkKongregateAccountResult>();
@@ -5245,7 +5162,7 @@ public class PlayFabClientAPI {
     public static FutureTask<PlayFabResult<EmptyResult>> LinkNintendoServiceAccountAsync(final LinkNintendoServiceAccountRequest request) {
         return new FutureTask(new Callable<PlayFabResult<EmptyResult>>() {
             public PlayFabResult<EmptyResult> call() throws Exception {
-                return privateLinkNintendoServiceAccountAsync(request);
+                return privateLinkNintendoServiceAccountAsync(null, request);
             }
         });
     }
@@ -5259,7 +5176,7 @@ public class PlayFabClientAPI {
     public static PlayFabResult<EmptyResult> LinkNintendoServiceAccount(final LinkNintendoServiceAccountRequest request) {
         FutureTask<PlayFabResult<EmptyResult>> task = new FutureTask(new Callable<PlayFabResult<EmptyResult>>() {
             public PlayFabResult<EmptyResult> call() throws Exception {
-                return privateLinkNintendoServiceAccountAsync(request);
+                return privateLinkNintendoServiceAccountAsync(null, request);
             }
         });
         try {
@@ -5274,10 +5191,11 @@ public class PlayFabClientAPI {
 
     /** Links the Nintendo account associated with the token to the user's PlayFab account. */
     @SuppressWarnings("unchecked")
-    private static PlayFabResult<EmptyResult> privateLinkNintendoServiceAccountAsync(final LinkNintendoServiceAccountRequest request) throws Exception {
-        if (PlayFabSettings.ClientSessionTicket == null) throw new Exception ("Must be logged in to call this method");
+    static PlayFabResult<EmptyResult> privateLinkNintendoServiceAccountAsync(final PlayFabInstanceAPI instance, final LinkNintendoServiceAccountRequest request) throws Exception {
+        final PlayFabApiContext context = PlayFabInstanceAPI.contextOf(instance);
+        if (context.getClientSessionTicket() == null) throw new Exception ("Must be logged in to call this method");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Client/LinkNintendoServiceAccount"), request, "X-Authorization", PlayFabSettings.ClientSessionTicket);
+        FutureTask<Object> task = PlayFabHTTP.doPost(context.getURL("/Client/LinkNintendoServiceAccount"), request, "X-Authorization", context.getClientSessionTicket(), EmptyResult.class);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -5288,9 +5206,7 @@ public class PlayFabClientAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
-
-        PlayFabJsonSuccess<EmptyResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<EmptyResult>>(){}.getType());
+        PlayFabJsonSuccess<EmptyResult> resultData = (PlayFabJsonSuccess<EmptyResult>) httpResult;
         EmptyResult result = resultData.data;
 
         PlayFabResult<EmptyResult> pfResult = new PlayFabResult<EmptyResult>();
@@ -5307,7 +5223,7 @@ public class PlayFabClientAPI {
     public static FutureTask<PlayFabResult<LinkNintendoSwitchDeviceIdResult>> LinkNintendoSwitchDeviceIdAsync(final LinkNintendoSwitchDeviceIdRequest request) {
         return new FutureTask(new Callable<PlayFabResult<LinkNintendoSwitchDeviceIdResult>>() {
             public PlayFabResult<LinkNintendoSwitchDeviceIdResult> call() throws Exception {
-                return privateLinkNintendoSwitchDeviceIdAsync(request);
+                return privateLinkNintendoSwitchDeviceIdAsync(null, request);
             }
         });
     }
@@ -5321,7 +5237,7 @@ public class PlayFabClientAPI {
     public static PlayFabResult<LinkNintendoSwitchDeviceIdResult> LinkNintendoSwitchDeviceId(final LinkNintendoSwitchDeviceIdRequest request) {
         FutureTask<PlayFabResult<LinkNintendoSwitchDeviceIdResult>> task = new FutureTask(new Callable<PlayFabResult<LinkNintendoSwitchDeviceIdResult>>() {
             public PlayFabResult<LinkNintendoSwitchDeviceIdResult> call() throws Exception {
-                return privateLinkNintendoSwitchDeviceIdAsync(request);
+                return privateLinkNintendoSwitchDeviceIdAsync(null, request);
             }
         });
         try {
@@ -5336,10 +5252,11 @@ public class PlayFabClientAPI {
 
     /** Links the NintendoSwitchDeviceId to the user's PlayFab account */
     @SuppressWarnings("unchecked")
-    private static PlayFabResult<LinkNintendoSwitchDeviceIdResult> privateLinkNintendoSwitchDeviceIdAsync(final LinkNintendoSwitchDeviceIdRequest request) throws Exception {
-        if (PlayFabSettings.ClientSessionTicket == null) throw new Exception ("Must be logged in to call this method");
+    static PlayFabResult<LinkNintendoSwitchDeviceIdResult> privateLinkNintendoSwitchDeviceIdAsync(final PlayFabInstanceAPI instance, final LinkNintendoSwitchDeviceIdRequest request) throws Exception {
+        final PlayFabApiContext context = PlayFabInstanceAPI.contextOf(instance);
+        if (context.getClientSessionTicket() == null) throw new Exception ("Must be logged in to call this method");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Client/LinkNintendoSwitchDeviceId"), request, "X-Authorization", PlayFabSettings.ClientSessionTicket);
+        FutureTask<Object> task = PlayFabHTTP.doPost(context.getURL("/Client/LinkNintendoSwitchDeviceId"), request, "X-Authorization", context.getClientSessionTicket(), LinkNintendoSwitchDeviceIdResult.class);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -5350,9 +5267,7 @@ public class PlayFabClientAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
-
-        PlayFabJsonSuccess<LinkNintendoSwitchDeviceIdResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<LinkNintendoSwitchDeviceIdResult>>(){}.getType());
+        PlayFabJsonSuccess<LinkNintendoSwitchDeviceIdResult> resultData = (PlayFabJsonSuccess<LinkNintendoSwitchDeviceIdResult>) httpResult;
         LinkNintendoSwitchDeviceIdResult result = resultData.data;
 
         PlayFabResult<LinkNintendoSwitchDeviceIdResult> pfResult = new PlayFabResult<LinkNintendoSwitchDeviceIdResult>();
@@ -5370,7 +5285,7 @@ public class PlayFabClientAPI {
     public static FutureTask<PlayFabResult<EmptyResult>> LinkOpenIdConnectAsync(final LinkOpenIdConnectRequest request) {
         return new FutureTask(new Callable<PlayFabResult<EmptyResult>>() {
             public PlayFabResult<EmptyResult> call() throws Exception {
-                return privateLinkOpenIdConnectAsync(request);
+                return privateLinkOpenIdConnectAsync(null, request);
             }
         });
     }
@@ -5385,7 +5300,7 @@ public class PlayFabClientAPI {
     public static PlayFabResult<EmptyResult> LinkOpenIdConnect(final LinkOpenIdConnectRequest request) {
         FutureTask<PlayFabResult<EmptyResult>> task = new FutureTask(new Callable<PlayFabResult<EmptyResult>>() {
             public PlayFabResult<EmptyResult> call() throws Exception {
-                return privateLinkOpenIdConnectAsync(request);
+                return privateLinkOpenIdConnectAsync(null, request);
             }
         });
         try {
@@ -5403,10 +5318,11 @@ public class PlayFabClientAPI {
      * Open ID Connect provider and the OpenId Connect JWT from that provider.
      */
     @SuppressWarnings("unchecked")
-    private static PlayFabResult<EmptyResult> privateLinkOpenIdConnectAsync(final LinkOpenIdConnectRequest request) throws Exception {
-        if (PlayFabSettings.ClientSessionTicket == null) throw new Exception ("Must be logged in to call this method");
+    static PlayFabResult<EmptyResult> privateLinkOpenIdConnectAsync(final PlayFabInstanceAPI instance, final LinkOpenIdConnectRequest request) throws Exception {
+        final PlayFabApiContext context = PlayFabInstanceAPI.contextOf(instance);
+        if (context.getClientSessionTicket() == null) throw new Exception ("Must be logged in to call this method");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Client/LinkOpenIdConnect"), request, "X-Authorization", PlayFabSettings.ClientSessionTicket);
+        FutureTask<Object> task = PlayFabHTTP.doPost(context.getURL("/Client/LinkOpenIdConnect"), request, "X-Authorization", context.getClientSessionTicket(), EmptyResult.class);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -5417,9 +5333,7 @@ public class PlayFabClientAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
-
-        PlayFabJsonSuccess<EmptyResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<EmptyResult>>(){}.getType());
+        PlayFabJsonSuccess<EmptyResult> resultData = (PlayFabJsonSuccess<EmptyResult>) httpResult;
         EmptyResult result = resultData.data;
 
         PlayFabResult<EmptyResult> pfResult = new PlayFabResult<EmptyResult>();
@@ -5436,7 +5350,7 @@ public class PlayFabClientAPI {
     public static FutureTask<PlayFabResult<LinkPSNAccountResult>> LinkPSNAccountAsync(final LinkPSNAccountRequest request) {
         return new FutureTask(new Callable<PlayFabResult<LinkPSNAccountResult>>() {
             public PlayFabResult<LinkPSNAccountResult> call() throws Exception {
-                return privateLinkPSNAccountAsync(request);
+                return privateLinkPSNAccountAsync(null, request);
             }
         });
     }
@@ -5450,7 +5364,7 @@ public class PlayFabClientAPI {
     public static PlayFabResult<LinkPSNAccountResult> LinkPSNAccount(final LinkPSNAccountRequest request) {
         FutureTask<PlayFabResult<LinkPSNAccountResult>> task = new FutureTask(new Callable<PlayFabResult<LinkPSNAccountResult>>() {
             public PlayFabResult<LinkPSNAccountResult> call() throws Exception {
-                return privateLinkPSNAccountAsync(request);
+                return privateLinkPSNAccountAsync(null, request);
             }
         });
         try {
@@ -5465,10 +5379,11 @@ public class PlayFabClientAPI {
 
     /** Links the PlayStation Network account associated with the provided access code to the user's PlayFab account */
     @SuppressWarnings("unchecked")
-    private static PlayFabResult<LinkPSNAccountResult> privateLinkPSNAccountAsync(final LinkPSNAccountRequest request) throws Exception {
-        if (PlayFabSettings.ClientSessionTicket == null) throw new Exception ("Must be logged in to call this method");
+    static PlayFabResult<LinkPSNAccountResult> privateLinkPSNAccountAsync(final PlayFabInstanceAPI instance, final LinkPSNAccountRequest request) throws Exception {
+        final PlayFabApiContext context = PlayFabInstanceAPI.contextOf(instance);
+        if (context.getClientSessionTicket() == null) throw new Exception ("Must be logged in to call this method");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Client/LinkPSNAccount"), request, "X-Authorization", PlayFabSettings.ClientSessionTicket);
+        FutureTask<Object> task = PlayFabHTTP.doPost(context.getURL("/Client/LinkPSNAccount"), request, "X-Authorization", context.getClientSessionTicket(), LinkPSNAccountResult.class);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -5479,9 +5394,7 @@ public class PlayFabClientAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
-
-        PlayFabJsonSuccess<LinkPSNAccountResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<LinkPSNAccountResult>>(){}.getType());
+        PlayFabJsonSuccess<LinkPSNAccountResult> resultData = (PlayFabJsonSuccess<LinkPSNAccountResult>) httpResult;
         LinkPSNAccountResult result = resultData.data;
 
         PlayFabResult<LinkPSNAccountResult> pfResult = new PlayFabResult<LinkPSNAccountResult>();
@@ -5498,7 +5411,7 @@ public class PlayFabClientAPI {
     public static FutureTask<PlayFabResult<LinkSteamAccountResult>> LinkSteamAccountAsync(final LinkSteamAccountRequest request) {
         return new FutureTask(new Callable<PlayFabResult<LinkSteamAccountResult>>() {
             public PlayFabResult<LinkSteamAccountResult> call() throws Exception {
-                return privateLinkSteamAccountAsync(request);
+                return privateLinkSteamAccountAsync(null, request);
             }
         });
     }
@@ -5512,7 +5425,7 @@ public class PlayFabClientAPI {
     public static PlayFabResult<LinkSteamAccountResult> LinkSteamAccount(final LinkSteamAccountRequest request) {
         FutureTask<PlayFabResult<LinkSteamAccountResult>> task = new FutureTask(new Callable<PlayFabResult<LinkSteamAccountResult>>() {
             public PlayFabResult<LinkSteamAccountResult> call() throws Exception {
-                return privateLinkSteamAccountAsync(request);
+                return privateLinkSteamAccountAsync(null, request);
             }
         });
         try {
@@ -5527,10 +5440,11 @@ public class PlayFabClientAPI {
 
     /** Links the Steam account associated with the provided Steam authentication ticket to the user's PlayFab account */
     @SuppressWarnings("unchecked")
-    private static PlayFabResult<LinkSteamAccountResult> privateLinkSteamAccountAsync(final LinkSteamAccountRequest request) throws Exception {
-        if (PlayFabSettings.ClientSessionTicket == null) throw new Exception ("Must be logged in to call this method");
+    static PlayFabResult<LinkSteamAccountResult> privateLinkSteamAccountAsync(final PlayFabInstanceAPI instance, final LinkSteamAccountRequest request) throws Exception {
+        final PlayFabApiContext context = PlayFabInstanceAPI.contextOf(instance);
+        if (context.getClientSessionTicket() == null) throw new Exception ("Must be logged in to call this method");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Client/LinkSteamAccount"), request, "X-Authorization", PlayFabSettings.ClientSessionTicket);
+        FutureTask<Object> task = PlayFabHTTP.doPost(context.getURL("/Client/LinkSteamAccount"), request, "X-Authorization", context.getClientSessionTicket(), LinkSteamAccountResult.class);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -5541,9 +5455,7 @@ public class PlayFabClientAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
-
-        PlayFabJsonSuccess<LinkSteamAccountResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<LinkSteamAccountResult>>(){}.getType());
+        PlayFabJsonSuccess<LinkSteamAccountResult> resultData = (PlayFabJsonSuccess<LinkSteamAccountResult>) httpResult;
         LinkSteamAccountResult result = resultData.data;
 
         PlayFabResult<LinkSteamAccountResult> pfResult = new PlayFabResult<LinkSteamAccountResult>();
@@ -5560,7 +5472,7 @@ public class PlayFabClientAPI {
     public static FutureTask<PlayFabResult<LinkTwitchAccountResult>> LinkTwitchAsync(final LinkTwitchAccountRequest request) {
         return new FutureTask(new Callable<PlayFabResult<LinkTwitchAccountResult>>() {
             public PlayFabResult<LinkTwitchAccountResult> call() throws Exception {
-                return privateLinkTwitchAsync(request);
+                return privateLinkTwitchAsync(null, request);
             }
         });
     }
@@ -5574,7 +5486,7 @@ public class PlayFabClientAPI {
     public static PlayFabResult<LinkTwitchAccountResult> LinkTwitch(final LinkTwitchAccountRequest request) {
         FutureTask<PlayFabResult<LinkTwitchAccountResult>> task = new FutureTask(new Callable<PlayFabResult<LinkTwitchAccountResult>>() {
             public PlayFabResult<LinkTwitchAccountResult> call() throws Exception {
-                return privateLinkTwitchAsync(request);
+                return privateLinkTwitchAsync(null, request);
             }
         });
         try {
@@ -5589,10 +5501,11 @@ public class PlayFabClientAPI {
 
     /** Links the Twitch account associated with the token to the user's PlayFab account. */
     @SuppressWarnings("unchecked")
-    private static PlayFabResult<LinkTwitchAccountResult> privateLinkTwitchAsync(final LinkTwitchAccountRequest request) throws Exception {
-        if (PlayFabSettings.ClientSessionTicket == null) throw new Exception ("Must be logged in to call this method");
+    static PlayFabResult<LinkTwitchAccountResult> privateLinkTwitchAsync(final PlayFabInstanceAPI instance, final LinkTwitchAccountRequest request) throws Exception {
+        final PlayFabApiContext context = PlayFabInstanceAPI.contextOf(instance);
+        if (context.getClientSessionTicket() == null) throw new Exception ("Must be logged in to call this method");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Client/LinkTwitch"), request, "X-Authorization", PlayFabSettings.ClientSessionTicket);
+        FutureTask<Object> task = PlayFabHTTP.doPost(context.getURL("/Client/LinkTwitch"), request, "X-Authorization", context.getClientSessionTicket(), LinkTwitchAccountResult.class);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -5603,9 +5516,7 @@ public class PlayFabClientAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
-
-        PlayFabJsonSuccess<LinkTwitchAccountResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<LinkTwitchAccountResult>>(){}.getType());
+        PlayFabJsonSuccess<LinkTwitchAccountResult> resultData = (PlayFabJsonSuccess<LinkTwitchAccountResult>) httpResult;
         LinkTwitchAccountResult result = resultData.data;
 
         PlayFabResult<LinkTwitchAccountResult> pfResult = new PlayFabResult<LinkTwitchAccountResult>();
@@ -5622,7 +5533,7 @@ public class PlayFabClientAPI {
     public static FutureTask<PlayFabResult<LinkXboxAccountResult>> LinkXboxAccountAsync(final LinkXboxAccountRequest request) {
         return new FutureTask(new Callable<PlayFabResult<LinkXboxAccountResult>>() {
             public PlayFabResult<LinkXboxAccountResult> call() throws Exception {
-                return privateLinkXboxAccountAsync(request);
+                return privateLinkXboxAccountAsync(null, request);
             }
         });
     }
@@ -5636,7 +5547,7 @@ public class PlayFabClientAPI {
     public static PlayFabResult<LinkXboxAccountResult> LinkXboxAccount(final LinkXboxAccountRequest request) {
         FutureTask<PlayFabResult<LinkXboxAccountResult>> task = new FutureTask(new Callable<PlayFabResult<LinkXboxAccountResult>>() {
             public PlayFabResult<LinkXboxAccountResult> call() throws Exception {
-                return privateLinkXboxAccountAsync(request);
+                return privateLinkXboxAccountAsync(null, request);
             }
         });
         try {
@@ -5651,10 +5562,11 @@ public class PlayFabClientAPI {
 
     /** Links the Xbox Live account associated with the provided access code to the user's PlayFab account */
     @SuppressWarnings("unchecked")
-    private static PlayFabResult<LinkXboxAccountResult> privateLinkXboxAccountAsync(final LinkXboxAccountRequest request) throws Exception {
-        if (PlayFabSettings.ClientSessionTicket == null) throw new Exception ("Must be logged in to call this method");
+    static PlayFabResult<LinkXboxAccountResult> privateLinkXboxAccountAsync(final PlayFabInstanceAPI instance, final LinkXboxAccountRequest request) throws Exception {
+        final PlayFabApiContext context = PlayFabInstanceAPI.contextOf(instance);
+        if (context.getClientSessionTicket() == null) throw new Exception ("Must be logged in to call this method");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Client/LinkXboxAccount"), request, "X-Authorization", PlayFabSettings.ClientSessionTicket);
+        FutureTask<Object> task = PlayFabHTTP.doPost(context.getURL("/Client/LinkXboxAccount"), request, "X-Authorization", context.getClientSessionTicket(), LinkXboxAccountResult.class);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -5665,9 +5577,7 @@ public class PlayFabClientAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
-
-        PlayFabJsonSuccess<LinkXboxAccountResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<LinkXboxAccountResult>>(){}.getType());
+        PlayFabJsonSuccess<LinkXboxAccountResult> resultData = (PlayFabJsonSuccess<LinkXboxAccountResult>) httpResult;
         LinkXboxAccountResult result = resultData.data;
 
         PlayFabResult<LinkXboxAccountResult> pfResult = new PlayFabResult<LinkXboxAccountResult>();
@@ -5685,7 +5595,7 @@ public class PlayFabClientAPI {
     public static FutureTask<PlayFabResult<LoginResult>> LoginWithAndroidDeviceIDAsync(final LoginWithAndroidDeviceIDRequest request) {
         return new FutureTask(new Callable<PlayFabResult<LoginResult>>() {
             public PlayFabResult<LoginResult> call() throws Exception {
-                return privateLoginWithAndroidDeviceIDAsync(request);
+                return privateLoginWithAndroidDeviceIDAsync(null, request);
             }
         });
     }
@@ -5700,7 +5610,7 @@ public class PlayFabClientAPI {
     public static PlayFabResult<LoginResult> LoginWithAndroidDeviceID(final LoginWithAndroidDeviceIDRequest request) {
         FutureTask<PlayFabResult<LoginResult>> task = new FutureTask(new Callable<PlayFabResult<LoginResult>>() {
             public PlayFabResult<LoginResult> call() throws Exception {
-                return privateLoginWithAndroidDeviceIDAsync(request);
+                return privateLoginWithAndroidDeviceIDAsync(null, request);
             }
         });
         try {
@@ -5718,11 +5628,12 @@ public class PlayFabClientAPI {
      * API calls which require an authenticated user
      */
     @SuppressWarnings("unchecked")
-    private static PlayFabResult<LoginResult> privateLoginWithAndroidDeviceIDAsync(final LoginWithAndroidDeviceIDRequest request) throws Exception {
-        request.TitleId = PlayFabSettings.TitleId != null ? PlayFabSettings.TitleId : request.TitleId;
+    static PlayFabResult<LoginResult> privateLoginWithAndroidDeviceIDAsync(final PlayFabInstanceAPI instance, final LoginWithAndroidDeviceIDRequest request) throws Exception {
+        final PlayFabApiContext context = PlayFabInstanceAPI.contextOf(instance);
+        request.TitleId = context.getTitleId() != null ? context.getTitleId() : request.TitleId;
         if (request.TitleId == null) throw new Exception ("Must be have PlayFabSettings.TitleId set to call this method");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Client/LoginWithAndroidDeviceID"), request, null, null);
+        FutureTask<Object> task = PlayFabHTTP.doPost(context.getURL("/Client/LoginWithAndroidDeviceID"), request, null, null, LoginResult.class);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -5733,12 +5644,10 @@ public class PlayFabClientAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
-
-        PlayFabJsonSuccess<LoginResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<LoginResult>>(){}.getType());
+        PlayFabJsonSuccess<LoginResult> resultData = (PlayFabJsonSuccess<LoginResult>) httpResult;
         LoginResult result = resultData.data;
-        PlayFabSettings.ClientSessionTicket = result.SessionTicket != null ? result.SessionTicket : PlayFabSettings.ClientSessionTicket;
-        if (result.EntityToken != null) PlayFabSettings.EntityToken = result.EntityToken.EntityToken != null ? result.EntityToken.EntityToken : PlayFabSettings.EntityToken;
+        PlayFabInstanceAPI.updateSession(instance, result.SessionTicket, null);
+        if (result.EntityToken != null) PlayFabInstanceAPI.updateSession(instance, null, result.EntityToken.EntityToken);
 
         PlayFabResult<LoginResult> pfResult = new PlayFabResult<LoginResult>();
         pfResult.Result = result;
@@ -5754,7 +5663,7 @@ public class PlayFabClientAPI {
     public static FutureTask<PlayFabResult<LoginResult>> LoginWithAppleAsync(final LoginWithAppleRequest request) {
         return new FutureTask(new Callable<PlayFabResult<LoginResult>>() {
             public PlayFabResult<LoginResult> call() throws Exception {
-                return privateLoginWithAppleAsync(request);
+                return privateLoginWithAppleAsync(null, request);
             }
         });
     }
@@ -5768,7 +5677,7 @@ public class PlayFabClientAPI {
     public static PlayFabResult<LoginResult> LoginWithApple(final LoginWithAppleRequest request) {
         FutureTask<PlayFabResult<LoginResult>> task = new FutureTask(new Callable<PlayFabResult<LoginResult>>() {
             public PlayFabResult<LoginResult> call() throws Exception {
-                return privateLoginWithAppleAsync(request);
+                return privateLoginWithAppleAsync(null, request);
             }
         });
         try {
@@ -5783,11 +5692,12 @@ public class PlayFabClientAPI {
 
     /** Signs in the user with a Sign in with Apple identity token. */
     @SuppressWarnings("unchecked")
-    private static PlayFabResult<LoginResult> privateLoginWithAppleAsync(final LoginWithAppleRequest request) throws Exception {
-        request.TitleId = PlayFabSettings.TitleId != null ? PlayFabSettings.TitleId : request.TitleId;
+    static PlayFabResult<LoginResult> privateLoginWithAppleAsync(final PlayFabInstanceAPI instance, final LoginWithAppleRequest request) throws Exception {
+        final PlayFabApiContext context = PlayFabInstanceAPI.contextOf(instance);
+        request.TitleId = context.getTitleId() != null ? context.getTitleId() : request.TitleId;
         if (request.TitleId == null) throw new Exception ("Must be have PlayFabSettings.TitleId set to call this method");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Client/LoginWithApple"), request, null, null);
+        FutureTask<Object> task = PlayFabHTTP.doPost(context.getURL("/Client/LoginWithApple"), request, null, null, LoginResult.class);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -5798,12 +5708,10 @@ public class PlayFabClientAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
-
-        PlayFabJsonSuccess<LoginResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<LoginResult>>(){}.getType());
+        PlayFabJsonSuccess<LoginResult> resultData = (PlayFabJsonSuccess<LoginResult>) httpResult;
         LoginResult result = resultData.data;
-        PlayFabSettings.ClientSessionTicket = result.SessionTicket != null ? result.SessionTicket : PlayFabSettings.ClientSessionTicket;
-        if (result.EntityToken != null) PlayFabSettings.EntityToken = result.EntityToken.EntityToken != null ? result.EntityToken.EntityToken : PlayFabSettings.EntityToken;
+        PlayFabInstanceAPI.updateSession(instance, result.SessionTicket, null);
+        if (result.EntityToken != null) PlayFabInstanceAPI.updateSession(instance, null, result.EntityToken.EntityToken);
 
         PlayFabResult<LoginResult> pfResult = new PlayFabResult<LoginResult>();
         pfResult.Result = result;
@@ -5820,7 +5728,7 @@ public class PlayFabClientAPI {
     public static FutureTask<PlayFabResult<LoginResult>> LoginWithCustomIDAsync(final LoginWithCustomIDRequest request) {
         return new FutureTask(new Callable<PlayFabResult<LoginResult>>() {
             public PlayFabResult<LoginResult> call() throws Exception {
-                return privateLoginWithCustomIDAsync(request);
+                return privateLoginWithCustomIDAsync(null, request);
             }
         });
     }
@@ -5835,7 +5743,7 @@ public class PlayFabClientAPI {
     public static PlayFabResult<LoginResult> LoginWithCustomID(final LoginWithCustomIDRequest request) {
         FutureTask<PlayFabResult<LoginResult>> task = new FutureTask(new Callable<PlayFabResult<LoginResult>>() {
             public PlayFabResult<LoginResult> call() throws Exception {
-                return privateLoginWithCustomIDAsync(request);
+                return privateLoginWithCustomIDAsync(null, request);
             }
         });
         try {
@@ -5853,11 +5761,12 @@ public class PlayFabClientAPI {
      * subsequently be used for API calls which require an authenticated user
      */
     @SuppressWarnings("unchecked")
-    private static PlayFabResult<LoginResult> privateLoginWithCustomIDAsync(final LoginWithCustomIDRequest request) throws Exception {
-        request.TitleId = PlayFabSettings.TitleId != null ? PlayFabSettings.TitleId : request.TitleId;
+    static PlayFabResult<LoginResult> privateLoginWithCustomIDAsync(final PlayFabInstanceAPI instance, final LoginWithCustomIDRequest request) throws Exception {
+        final PlayFabApiContext context = PlayFabInstanceAPI.contextOf(instance);
+        request.TitleId = context.getTitleId() != null ? context.getTitleId() : request.TitleId;
         if (request.TitleId == null) throw new Exception ("Must be have PlayFabSettings.TitleId set to call this method");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Client/LoginWithCustomID"), request, null, null);
+        FutureTask<Object> task = PlayFabHTTP.doPost(context.getURL("/Client/LoginWithCustomID"), request, null, null, LoginResult.class);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -5868,12 +5777,10 @@ public class PlayFabClientAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
-
-        PlayFabJsonSuccess<LoginResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<LoginResult>>(){}.getType());
+        PlayFabJsonSuccess<LoginResult> resultData = (PlayFabJsonSuccess<LoginResult>) httpResult;
         LoginResult result = resultData.data;
-        PlayFabSettings.ClientSessionTicket = result.SessionTicket != null ? result.SessionTicket : PlayFabSettings.ClientSessionTicket;
-        if (result.EntityToken != null) PlayFabSettings.EntityToken = result.EntityToken.EntityToken != null ? result.EntityToken.EntityToken : PlayFabSettings.EntityToken;
+        PlayFabInstanceAPI.updateSession(instance, result.SessionTicket, null);
+        if (result.EntityToken != null) PlayFabInstanceAPI.updateSession(instance, null, result.EntityToken.EntityToken);
 
         PlayFabResult<LoginResult> pfResult = new PlayFabResult<LoginResult>();
         pfResult.Result = result;
@@ -5892,7 +5799,7 @@ public class PlayFabClientAPI {
     public static FutureTask<PlayFabResult<LoginResult>> LoginWithEmailAddressAsync(final LoginWithEmailAddressRequest request) {
         return new FutureTask(new Callable<PlayFabResult<LoginResult>>() {
             public PlayFabResult<LoginResult> call() throws Exception {
-                return privateLoginWithEmailAddressAsync(request);
+                return privateLoginWithEmailAddressAsync(null, request);
             }
         });
     }
@@ -5909,7 +5816,7 @@ public class PlayFabClientAPI {
     public static PlayFabResult<LoginResult> LoginWithEmailAddress(final LoginWithEmailAddressRequest request) {
         FutureTask<PlayFabResult<LoginResult>> task = new FutureTask(new Callable<PlayFabResult<LoginResult>>() {
             public PlayFabResult<LoginResult> call() throws Exception {
-                return privateLoginWithEmailAddressAsync(request);
+                return privateLoginWithEmailAddressAsync(null, request);
             }
         });
         try {
@@ -5929,11 +5836,12 @@ public class PlayFabClientAPI {
      * RegisterPlayFabUser.
      */
     @SuppressWarnings("unchecked")
-    private static PlayFabResult<LoginResult> privateLoginWithEmailAddressAsync(final LoginWithEmailAddressRequest request) throws Exception {
-        request.TitleId = PlayFabSettings.TitleId != null ? PlayFabSettings.TitleId : request.TitleId;
+    static PlayFabResult<LoginResult> privateLoginWithEmailAddressAsync(final PlayFabInstanceAPI instance, final LoginWithEmailAddressRequest request) throws Exception {
+        final PlayFabApiContext context = PlayFabInstanceAPI.contextOf(instance);
+        request.TitleId = context.getTitleId() != null ? context.getTitleId() : request.TitleId;
         if (request.TitleId == null) throw new Exception ("Must be have PlayFabSettings.TitleId set to call this method");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Client/LoginWithEmailAddress"), request, null, null);
+        FutureTask<Object> task = PlayFabHTTP.doPost(context.getURL("/Client/LoginWithEmailAddress"), request, null, null, LoginResult.class);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -5944,12 +5852,10 @@ public class PlayFabClientAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
-
-        PlayFabJsonSuccess<LoginResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<LoginResult>>(){}.getType());
+        PlayFabJsonSuccess<LoginResult> resultData = (PlayFabJsonSuccess<LoginResult>) httpResult;
         LoginResult result = resultData.data;
-        PlayFabSettings.ClientSessionTicket = result.SessionTicket != null ? result.SessionTicket : PlayFabSettings.ClientSessionTicket;
-        if (result.EntityToken != null) PlayFabSettings.EntityToken = result.EntityToken.EntityToken != null ? result.EntityToken.EntityToken : PlayFabSettings.EntityToken;
+        PlayFabInstanceAPI.updateSession(instance, result.SessionTicket, null);
+        if (result.EntityToken != null) PlayFabInstanceAPI.updateSession(instance, null, result.EntityToken.EntityToken);
 
         PlayFabResult<LoginResult> pfResult = new PlayFabResult<LoginResult>();
         pfResult.Result = result;
@@ -5966,7 +5872,7 @@ public class PlayFabClientAPI {
     public static FutureTask<PlayFabResult<LoginResult>> LoginWithFacebookAsync(final LoginWithFacebookRequest request) {
         return new FutureTask(new Callable<PlayFabResult<LoginResult>>() {
             public PlayFabResult<LoginResult> call() throws Exception {
-                return privateLoginWithFacebookAsync(request);
+                return privateLoginWithFacebookAsync(null, request);
             }
         });
     }
@@ -5981,7 +5887,7 @@ public class PlayFabClientAPI {
     public static PlayFabResult<LoginResult> LoginWithFacebook(final LoginWithFacebookRequest request) {
         FutureTask<PlayFabResult<LoginResult>> task = new FutureTask(new Callable<PlayFabResult<LoginResult>>() {
             public PlayFabResult<LoginResult> call() throws Exception {
-                return privateLoginWithFacebookAsync(request);
+                return privateLoginWithFacebookAsync(null, request);
             }
         });
         try {
@@ -5999,11 +5905,12 @@ public class PlayFabClientAPI {
      * calls which require an authenticated user
      */
     @SuppressWarnings("unchecked")
-    private static PlayFabResult<LoginResult> privateLoginWithFacebookAsync(final LoginWithFacebookRequest request) throws Exception {
-        request.TitleId = PlayFabSettings.TitleId != null ? PlayFabSettings.TitleId : request.TitleId;
+    static PlayFabResult<LoginResult> privateLoginWithFacebookAsync(final PlayFabInstanceAPI instance, final LoginWithFacebookRequest request) throws Exception {
+        final PlayFabApiContext context = PlayFabInstanceAPI.contextOf(instance);
+        request.TitleId = context.getTitleId() != null ? context.getTitleId() : request.TitleId;
         if (request.TitleId == null) throw new Exception ("Must be have PlayFabSettings.TitleId set to call this method");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Client/LoginWithFacebook"), request, null, null);
+        FutureTask<Object> task = PlayFabHTTP.doPost(context.getURL("/Client/LoginWithFacebook"), request, null, null, LoginResult.class);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -6014,12 +5921,10 @@ public class PlayFabClientAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
-
-        PlayFabJsonSuccess<LoginResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<LoginResult>>(){}.getType());
+        PlayFabJsonSuccess<LoginResult> resultData = (PlayFabJsonSuccess<LoginResult>) httpResult;
         LoginResult result = resultData.data;
-        PlayFabSettings.ClientSessionTicket = result.SessionTicket != null ? result.SessionTicket : PlayFabSettings.ClientSessionTicket;
-        if (result.EntityToken != null) PlayFabSettings.EntityToken = result.EntityToken.EntityToken != null ? result.EntityToken.EntityToken : PlayFabSettings.EntityToken;
+        PlayFabInstanceAPI.updateSession(instance, result.SessionTicket, null);
+        if (result.EntityToken != null) PlayFabInstanceAPI.updateSession(instance, null, result.EntityToken.EntityToken);
 
         PlayFabResult<LoginResult> pfResult = new PlayFabResult<LoginResult>();
         pfResult.Result = result;
@@ -6036,7 +5941,7 @@ public class PlayFabClientAPI {
     public static FutureTask<PlayFabResult<LoginResult>> LoginWithFacebookInstantGamesIdAsync(final LoginWithFacebookInstantGamesIdRequest request) {
         return new FutureTask(new Callable<PlayFabResult<LoginResult>>() {
             public PlayFabResult<LoginResult> call() throws Exception {
-                return privateLoginWithFacebookInstantGamesIdAsync(request);
+                return privateLoginWithFacebookInstantGamesIdAsync(null, request);
             }
         });
     }
@@ -6051,7 +5956,7 @@ public class PlayFabClientAPI {
     public static PlayFabResult<LoginResult> LoginWithFacebookInstantGamesId(final LoginWithFacebookInstantGamesIdRequest request) {
         FutureTask<PlayFabResult<LoginResult>> task = new FutureTask(new Callable<PlayFabResult<LoginResult>>() {
             public PlayFabResult<LoginResult> call() throws Exception {
-                return privateLoginWithFacebookInstantGamesIdAsync(request);
+                return privateLoginWithFacebookInstantGamesIdAsync(null, request);
             }
         });
         try {
@@ -6069,11 +5974,12 @@ public class PlayFabClientAPI {
      * API calls which require an authenticated user. Requires Facebook Instant Games to be configured.
      */
     @SuppressWarnings("unchecked")
-    private static PlayFabResult<LoginResult> privateLoginWithFacebookInstantGamesIdAsync(final LoginWithFacebookInstantGamesIdRequest request) throws Exception {
-        request.TitleId = PlayFabSettings.TitleId != null ? PlayFabSettings.TitleId : request.TitleId;
+    static PlayFabResult<LoginResult> privateLoginWithFacebookInstantGamesIdAsync(final PlayFabInstanceAPI instance, final LoginWithFacebookInstantGamesIdRequest request) throws Exception {
+        final PlayFabApiContext context = PlayFabInstanceAPI.contextOf(instance);
+        request.TitleId = context.getTitleId() != null ? context.getTitleId() : request.TitleId;
         if (request.TitleId == null) throw new Exception ("Must be have PlayFabSettings.TitleId set to call this method");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Client/LoginWithFacebookInstantGamesId"), request, null, null);
+        FutureTask<Object> task = PlayFabHTTP.doPost(context.getURL("/Client/LoginWithFacebookInstantGamesId"), request, null, null, LoginResult.class);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -6084,12 +5990,10 @@ public class PlayFabClientAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
-
-        PlayFabJsonSuccess<LoginResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<LoginResult>>(){}.getType());
+        PlayFabJsonSuccess<LoginResult> resultData = (PlayFabJsonSuccess<LoginResult>) httpResult;
         LoginResult result = resultData.data;
-        PlayFabSettings.ClientSessionTicket = result.SessionTicket != null ? result.SessionTicket : PlayFabSettings.ClientSessionTicket;
-        if (result.EntityToken != null) PlayFabSettings.EntityToken = result.EntityToken.EntityToken != null ? result.EntityToken.EntityToken : PlayFabSettings.EntityToken;
+        PlayFabInstanceAPI.updateSession(instance, result.SessionTicket, null);
+        if (result.EntityToken != null) PlayFabInstanceAPI.updateSession(instance, null, result.EntityToken.EntityToken);
 
         PlayFabResult<LoginResult> pfResult = new PlayFabResult<LoginResult>();
         pfResult.Result = result;
@@ -6109,7 +6013,7 @@ public class PlayFabClientAPI {
     public static FutureTask<PlayFabResult<LoginResult>> LoginWithGameCenterAsync(final LoginWithGameCenterRequest request) {
         return new FutureTask(new Callable<PlayFabResult<LoginResult>>() {
             public PlayFabResult<LoginResult> call() throws Exception {
-                return privateLoginWithGameCenterAsync(request);
+                return privateLoginWithGameCenterAsync(null, request);
             }
         });
     }
@@ -6127,7 +6031,7 @@ public class PlayFabClientAPI {
     public static PlayFabResult<LoginResult> LoginWithGameCenter(final LoginWithGameCenterRequest request) {
         FutureTask<PlayFabResult<LoginResult>> task = new FutureTask(new Callable<PlayFabResult<LoginResult>>() {
             public PlayFabResult<LoginResult> call() throws Exception {
-                return privateLoginWithGameCenterAsync(request);
+                return privateLoginWithGameCenterAsync(null, request);
             }
         });
         try {
@@ -6148,11 +6052,12 @@ public class PlayFabClientAPI {
      * enabling the 'Require secure authentication only for this app' option.
      */
     @SuppressWarnings("unchecked")
-    private static PlayFabResult<LoginResult> privateLoginWithGameCenterAsync(final LoginWithGameCenterRequest request) throws Exception {
-        request.TitleId = PlayFabSettings.TitleId != null ? PlayFabSettings.TitleId : request.TitleId;
+    static PlayFabResult<LoginResult> privateLoginWithGameCenterAsync(final PlayFabInstanceAPI instance, final LoginWithGameCenterRequest request) throws Exception {
+        final PlayFabApiContext context = PlayFabInstanceAPI.contextOf(instance);
+        request.TitleId = context.getTitleId() != null ? context.getTitleId() : request.TitleId;
         if (request.TitleId == null) throw new Exception ("Must be have PlayFabSettings.TitleId set to call this method");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Client/LoginWithGameCenter"), request, null, null);
+        FutureTask<Object> task = PlayFabHTTP.doPost(context.getURL("/Client/LoginWithGameCenter"), request, null, null, LoginResult.class);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -6163,12 +6068,10 @@ public class PlayFabClientAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
-
-        PlayFabJsonSuccess<LoginResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<LoginResult>>(){}.getType());
+        PlayFabJsonSuccess<LoginResult> resultData = (PlayFabJsonSuccess<LoginResult>) httpResult;
         LoginResult result = resultData.data;
-        PlayFabSettings.ClientSessionTicket = result.SessionTicket != null ? result.SessionTicket : PlayFabSettings.ClientSessionTicket;
-        if (result.EntityToken != null) PlayFabSettings.EntityToken = result.EntityToken.EntityToken != null ? result.EntityToken.EntityToken : PlayFabSettings.EntityToken;
+        PlayFabInstanceAPI.updateSession(instance, result.SessionTicket, null);
+        if (result.EntityToken != null) PlayFabInstanceAPI.updateSession(instance, null, result.EntityToken.EntityToken);
 
         PlayFabResult<LoginResult> pfResult = new PlayFabResult<LoginResult>();
         pfResult.Result = result;
@@ -6184,7 +6087,7 @@ public class PlayFabClientAPI {
     public static FutureTask<PlayFabResult<LoginResult>> LoginWithGoogleAccountAsync(final LoginWithGoogleAccountRequest request) {
         return new FutureTask(new Callable<PlayFabResult<LoginResult>>() {
             public PlayFabResult<LoginResult> call() throws Exception {
-                return privateLoginWithGoogleAccountAsync(request);
+                return privateLoginWithGoogleAccountAsync(null, request);
             }
         });
     }
@@ -6198,7 +6101,7 @@ public class PlayFabClientAPI {
     public static PlayFabResult<LoginResult> LoginWithGoogleAccount(final LoginWithGoogleAccountRequest request) {
         FutureTask<PlayFabResult<LoginResult>> task = new FutureTask(new Callable<PlayFabResult<LoginResult>>() {
             public PlayFabResult<LoginResult> call() throws Exception {
-                return privateLoginWithGoogleAccountAsync(request);
+                return privateLoginWithGoogleAccountAsync(null, request);
             }
         });
         try {
@@ -6213,11 +6116,12 @@ public class PlayFabClientAPI {
 
     /** Signs the user in using their Google account credentials */
     @SuppressWarnings("unchecked")
-    private static PlayFabResult<LoginResult> privateLoginWithGoogleAccountAsync(final LoginWithGoogleAccountRequest request) throws Exception {
-        request.TitleId = PlayFabSettings.TitleId != null ? PlayFabSettings.TitleId : request.TitleId;
+    static PlayFabResult<LoginResult> privateLoginWithGoogleAccountAsync(final PlayFabInstanceAPI instance, final LoginWithGoogleAccountRequest request) throws Exception {
+        final PlayFabApiContext context = PlayFabInstanceAPI.contextOf(instance);
+        request.TitleId = context.getTitleId() != null ? context.getTitleId() : request.TitleId;
         if (request.TitleId == null) throw new Exception ("Must be have PlayFabSettings.TitleId set to call this method");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Client/LoginWithGoogleAccount"), request, null, null);
+        FutureTask<Object> task = PlayFabHTTP.doPost(context.getURL("/Client/LoginWithGoogleAccount"), request, null, null, LoginResult.class);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -6228,12 +6132,10 @@ public class PlayFabClientAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
-
-        PlayFabJsonSuccess<LoginResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<LoginResult>>(){}.getType());
+        PlayFabJsonSuccess<LoginResult> resultData = (PlayFabJsonSuccess<LoginResult>) httpResult;
         LoginResult result = resultData.data;
-        PlayFabSettings.ClientSessionTicket = result.SessionTicket != null ? result.SessionTicket : PlayFabSettings.ClientSessionTicket;
-        if (result.EntityToken != null) PlayFabSettings.EntityToken = result.EntityToken.EntityToken != null ? result.EntityToken.EntityToken : PlayFabSettings.EntityToken;
+        PlayFabInstanceAPI.updateSession(instance, result.SessionTicket, null);
+        if (result.EntityToken != null) PlayFabInstanceAPI.updateSession(instance, null, result.EntityToken.EntityToken);
 
         PlayFabResult<LoginResult> pfResult = new PlayFabResult<LoginResult>();
         pfResult.Result = result;
@@ -6250,7 +6152,7 @@ public class PlayFabClientAPI {
     public static FutureTask<PlayFabResult<LoginResult>> LoginWithIOSDeviceIDAsync(final LoginWithIOSDeviceIDRequest request) {
         return new FutureTask(new Callable<PlayFabResult<LoginResult>>() {
             public PlayFabResult<LoginResult> call() throws Exception {
-                return privateLoginWithIOSDeviceIDAsync(request);
+                return privateLoginWithIOSDeviceIDAsync(null, request);
             }
         });
     }
@@ -6265,7 +6167,7 @@ public class PlayFabClientAPI {
     public static PlayFabResult<LoginResult> LoginWithIOSDeviceID(final LoginWithIOSDeviceIDRequest request) {
         FutureTask<PlayFabResult<LoginResult>> task = new FutureTask(new Callable<PlayFabResult<LoginResult>>() {
             public PlayFabResult<LoginResult> call() throws Exception {
-                return privateLoginWithIOSDeviceIDAsync(request);
+                return privateLoginWithIOSDeviceIDAsync(null, request);
             }
         });
         try {
@@ -6283,11 +6185,12 @@ public class PlayFabClientAPI {
      * be used for API calls which require an authenticated user
      */
     @SuppressWarnings("unchecked")
-    private static PlayFabResult<LoginResult> privateLoginWithIOSDeviceIDAsync(final LoginWithIOSDeviceIDRequest request) throws Exception {
-        request.TitleId = PlayFabSettings.TitleId != null ? PlayFabSettings.TitleId : request.TitleId;
+    static PlayFabResult<LoginResult> privateLoginWithIOSDeviceIDAsync(final PlayFabInstanceAPI instance, final LoginWithIOSDeviceIDRequest request) throws Exception {
+        final PlayFabApiContext context = PlayFabInstanceAPI.contextOf(instance);
+        request.TitleId = context.getTitleId() != null ? context.getTitleId() : request.TitleId;
         if (request.TitleId == null) throw new Exception ("Must be have PlayFabSettings.TitleId set to call this method");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Client/LoginWithIOSDeviceID"), request, null, null);
+        FutureTask<Object> task = PlayFabHTTP.doPost(context.getURL("/Client/LoginWithIOSDeviceID"), request, null, null, LoginResult.class);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -6298,12 +6201,10 @@ public class PlayFabClientAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
-
-        PlayFabJsonSuccess<LoginResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<LoginResult>>(){}.getType());
+        PlayFabJsonSuccess<LoginResult> resultData = (PlayFabJsonSuccess<LoginResult>) httpResult;
         LoginResult result = resultData.data;
-        PlayFabSettings.ClientSessionTicket = result.SessionTicket != null ? result.SessionTicket : PlayFabSettings.ClientSessionTicket;
-        if (result.EntityToken != null) PlayFabSettings.EntityToken = result.EntityToken.EntityToken != null ? result.EntityToken.EntityToken : PlayFabSettings.EntityToken;
+        PlayFabInstanceAPI.updateSession(instance, result.SessionTicket, null);
+        if (result.EntityToken != null) PlayFabInstanceAPI.updateSession(instance, null, result.EntityToken.EntityToken);
 
         PlayFabResult<LoginResult> pfResult = new PlayFabResult<LoginResult>();
         pfResult.Result = result;
@@ -6319,7 +6220,7 @@ public class PlayFabClientAPI {
     public static FutureTask<PlayFabResult<LoginResult>> LoginWithKongregateAsync(final LoginWithKongregateRequest request) {
         return new FutureTask(new Callable<PlayFabResult<LoginResult>>() {
             public PlayFabResult<LoginResult> call() throws Exception {
-                return privateLoginWithKongregateAsync(request);
+                return privateLoginWithKongregateAsync(null, request);
             }
         });
     }
@@ -6333,7 +6234,7 @@ public class PlayFabClientAPI {
     public static PlayFabResult<LoginResult> LoginWithKongregate(final LoginWithKongregateRequest request) {
         FutureTask<PlayFabResult<LoginResult>> task = new FutureTask(new Callable<PlayFabResult<LoginResult>>() {
             public PlayFabResult<LoginResult> call() throws Exception {
-                return privateLoginWithKongregateAsync(request);
+                return privateLoginWithKongregateAsync(null, request);
             }
         });
         try {
@@ -6348,11 +6249,12 @@ public class PlayFabClientAPI {
 
     /** Signs the user in using a Kongregate player account. */
     @SuppressWarnings("unchecked")
-    private static PlayFabResult<LoginResult> privateLoginWithKongregateAsync(final LoginWithKongregateRequest request) throws Exception {
-        request.TitleId = PlayFabSettings.TitleId != null ? PlayFabSettings.TitleId : request.TitleId;
+    static PlayFabResult<LoginResult> privateLoginWithKongregateAsync(final PlayFabInstanceAPI instance, final LoginWithKongregateRequest request) throws Exception {
+        final PlayFabApiContext context = PlayFabInstanceAPI.contextOf(instance);
+        request.TitleId = context.getTitleId() != null ? context.getTitleId() : request.TitleId;
         if (request.TitleId == null) throw new Exception ("Must be have PlayFabSettings.TitleId set to call this method");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Client/LoginWithKongregate"), request, null, null);
+        FutureTask<Object> task = PlayFabHTTP.doPost(context.getURL("/Client/LoginWithKongregate"), request, null, null, LoginResult.class);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -6363,12 +6265,10 @@ public class PlayFabClientAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
-
-        PlayFabJsonSuccess<LoginResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<LoginResult>>(){}.getType());
+        PlayFabJsonSuccess<LoginResult> resultData = (PlayFabJsonSuccess<LoginResult>) httpResult;
         LoginResult result = resultData.data;
-        PlayFabSettings.ClientSessionTicket = result.SessionTicket != null ? result.SessionTicket : PlayFabSettings.ClientSessionTicket;
-        if (result.EntityToken != null) PlayFabSettings.EntityToken = result.EntityToken.EntityToken != null ? result.EntityToken.EntityToken : PlayFabSettings.EntityToken;
+        PlayFabInstanceAPI.updateSession(instance, result.SessionTicket, null);
+        if (result.EntityToken != null) PlayFabInstanceAPI.updateSession(instance, null, result.EntityToken.EntityToken);
 
         PlayFabResult<LoginResult> pfResult = new PlayFabResult<LoginResult>();
         pfResult.Result = result;
@@ -6384,7 +6284,7 @@ public class PlayFabClientAPI {
     public static FutureTask<PlayFabResult<LoginResult>> LoginWithNintendoServiceAccountAsync(final LoginWithNintendoServiceAccountRequest request) {
         return new FutureTask(new Callable<PlayFabResult<LoginResult>>() {
             public PlayFabResult<LoginResult> call() throws Exception {
-                return privateLoginWithNintendoServiceAccountAsync(request);
+                return privateLoginWithNintendoServiceAccountAsync(null, request);
             }
         });
     }
@@ -6398,7 +6298,7 @@ public class PlayFabClientAPI {
     public static PlayFabResult<LoginResult> LoginWithNintendoServiceAccount(final LoginWithNintendoServiceAccountRequest request) {
         FutureTask<PlayFabResult<LoginResult>> task = new FutureTask(new Callable<PlayFabResult<LoginResult>>() {
             public PlayFabResult<LoginResult> call() throws Exception {
-                return privateLoginWithNintendoServiceAccountAsync(request);
+                return privateLoginWithNintendoServiceAccountAsync(null, request);
             }
         });
         try {
@@ -6413,11 +6313,12 @@ public class PlayFabClientAPI {
 
     /** Signs in the user with a Nintendo service account token. */
     @SuppressWarnings("unchecked")
-    private static PlayFabResult<LoginResult> privateLoginWithNintendoServiceAccountAsync(final LoginWithNintendoServiceAccountRequest request) throws Exception {
-        request.TitleId = PlayFabSettings.TitleId != null ? PlayFabSettings.TitleId : request.TitleId;
+    static PlayFabResult<LoginResult> privateLoginWithNintendoServiceAccountAsync(final PlayFabInstanceAPI instance, final LoginWithNintendoServiceAccountRequest request) throws Exception {
+        final PlayFabApiContext context = PlayFabInstanceAPI.contextOf(instance);
+        request.TitleId = context.getTitleId() != null ? context.getTitleId() : request.TitleId;
         if (request.TitleId == null) throw new Exception ("Must be have PlayFabSettings.TitleId set to call this method");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Client/LoginWithNintendoServiceAccount"), request, null, null);
+        FutureTask<Object> task = PlayFabHTTP.doPost(context.getURL("/Client/LoginWithNintendoServiceAccount"), request, null, null, LoginResult.class);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -6428,12 +6329,10 @@ public class PlayFabClientAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
-
-        PlayFabJsonSuccess<LoginResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<LoginResult>>(){}.getType());
+        PlayFabJsonSuccess<LoginResult> resultData = (PlayFabJsonSuccess<LoginResult>) httpResult;
         LoginResult result = resultData.data;
-        PlayFabSettings.ClientSessionTicket = result.SessionTicket != null ? result.SessionTicket : PlayFabSettings.ClientSessionTicket;
-        if (result.EntityToken != null) PlayFabSettings.EntityToken = result.EntityToken.EntityToken != null ? result.EntityToken.EntityToken : PlayFabSettings.EntityToken;
+        PlayFabInstanceAPI.updateSession(instance, result.SessionTicket, null);
+        if (result.EntityToken != null) PlayFabInstanceAPI.updateSession(instance, null, result.EntityToken.EntityToken);
 
         PlayFabResult<LoginResult> pfResult = new PlayFabResult<LoginResult>();
         pfResult.Result = result;
@@ -6450,7 +6349,7 @@ public class PlayFabClientAPI {
     public static FutureTask<PlayFabResult<LoginResult>> LoginWithNintendoSwitchDeviceIdAsync(final LoginWithNintendoSwitchDeviceIdRequest request) {
         return new FutureTask(new Callable<PlayFabResult<LoginResult>>() {
             public PlayFabResult<LoginResult> call() throws Exception {
-                return privateLoginWithNintendoSwitchDeviceIdAsync(request);
+                return privateLoginWithNintendoSwitchDeviceIdAsync(null, request);
             }
         });
     }
@@ -6465,7 +6364,7 @@ public class PlayFabClientAPI {
     public static PlayFabResult<LoginResult> LoginWithNintendoSwitchDeviceId(final LoginWithNintendoSwitchDeviceIdRequest request) {
         FutureTask<PlayFabResult<LoginResult>> task = new FutureTask(new Callable<PlayFabResult<LoginResult>>() {
             public PlayFabResult<LoginResult> call() throws Exception {
-                return privateLoginWithNintendoSwitchDeviceIdAsync(request);
+                return privateLoginWithNintendoSwitchDeviceIdAsync(null, request);
             }
         });
         try {
@@ -6483,11 +6382,12 @@ public class PlayFabClientAPI {
      * API calls which require an authenticated user
      */
     @SuppressWarnings("unchecked")
-    private static PlayFabResult<LoginResult> privateLoginWithNintendoSwitchDeviceIdAsync(final LoginWithNintendoSwitchDeviceIdRequest request) throws Exception {
-        request.TitleId = PlayFabSettings.TitleId != null ? PlayFabSettings.TitleId : request.TitleId;
+    static PlayFabResult<LoginResult> privateLoginWithNintendoSwitchDeviceIdAsync(final PlayFabInstanceAPI instance, final LoginWithNintendoSwitchDeviceIdRequest request) throws Exception {
+        final PlayFabApiContext context = PlayFabInstanceAPI.contextOf(instance);
+        request.TitleId = context.getTitleId() != null ? context.getTitleId() : request.TitleId;
         if (request.TitleId == null) throw new Exception ("Must be have PlayFabSettings.TitleId set to call this method");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Client/LoginWithNintendoSwitchDeviceId"), request, null, null);
+        FutureTask<Object> task = PlayFabHTTP.doPost(context.getURL("/Client/LoginWithNintendoSwitchDeviceId"), request, null, null, LoginResult.class);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -6498,12 +6398,10 @@ public class PlayFabClientAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
-
-        PlayFabJsonSuccess<LoginResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<LoginResult>>(){}.getType());
+        PlayFabJsonSuccess<LoginResult> resultData = (PlayFabJsonSuccess<LoginResult>) httpResult;
         LoginResult result = resultData.data;
-        PlayFabSettings.ClientSessionTicket = result.SessionTicket != null ? result.SessionTicket : PlayFabSettings.ClientSessionTicket;
-        if (result.EntityToken != null) PlayFabSettings.EntityToken = result.EntityToken.EntityToken != null ? result.EntityToken.EntityToken : PlayFabSettings.EntityToken;
+        PlayFabInstanceAPI.updateSession(instance, result.SessionTicket, null);
+        if (result.EntityToken != null) PlayFabInstanceAPI.updateSession(instance, null, result.EntityToken.EntityToken);
 
         PlayFabResult<LoginResult> pfResult = new PlayFabResult<LoginResult>();
         pfResult.Result = result;
@@ -6520,7 +6418,7 @@ public class PlayFabClientAPI {
     public static FutureTask<PlayFabResult<LoginResult>> LoginWithOpenIdConnectAsync(final LoginWithOpenIdConnectRequest request) {
         return new FutureTask(new Callable<PlayFabResult<LoginResult>>() {
             public PlayFabResult<LoginResult> call() throws Exception {
-                return privateLoginWithOpenIdConnectAsync(request);
+                return privateLoginWithOpenIdConnectAsync(null, request);
             }
         });
     }
@@ -6535,7 +6433,7 @@ public class PlayFabClientAPI {
     public static PlayFabResult<LoginResult> LoginWithOpenIdConnect(final LoginWithOpenIdConnectRequest request) {
         FutureTask<PlayFabResult<LoginResult>> task = new FutureTask(new Callable<PlayFabResult<LoginResult>>() {
             public PlayFabResult<LoginResult> call() throws Exception {
-                return privateLoginWithOpenIdConnectAsync(request);
+                return privateLoginWithOpenIdConnectAsync(null, request);
             }
         });
         try {
@@ -6553,11 +6451,12 @@ public class PlayFabClientAPI {
      * provider.
      */
     @SuppressWarnings("unchecked")
-    private static PlayFabResult<LoginResult> privateLoginWithOpenIdConnectAsync(final LoginWithOpenIdConnectRequest request) throws Exception {
-        request.TitleId = PlayFabSettings.TitleId != null ? PlayFabSettings.TitleId : request.TitleId;
+    static PlayFabResult<LoginResult> privateLoginWithOpenIdConnectAsync(final PlayFabInstanceAPI instance, final LoginWithOpenIdConnectRequest request) throws Exception {
+        final PlayFabApiContext context = PlayFabInstanceAPI.contextOf(instance);
+        request.TitleId = context.getTitleId() != null ? context.getTitleId() : request.TitleId;
         if (request.TitleId == null) throw new Exception ("Must be have PlayFabSettings.TitleId set to call this method");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Client/LoginWithOpenIdConnect"), request, null, null);
+        FutureTask<Object> task = PlayFabHTTP.doPost(context.getURL("/Client/LoginWithOpenIdConnect"), request, null, null, LoginResult.class);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -6568,12 +6467,10 @@ public class PlayFabClientAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
-
-        PlayFabJsonSuccess<LoginResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<LoginResult>>(){}.getType());
+        PlayFabJsonSuccess<LoginResult> resultData = (PlayFabJsonSuccess<LoginResult>) httpResult;
         LoginResult result = resultData.data;
-        PlayFabSettings.ClientSessionTicket = result.SessionTicket != null ? result.SessionTicket : PlayFabSettings.ClientSessionTicket;
-        if (result.EntityToken != null) PlayFabSettings.EntityToken = result.EntityToken.EntityToken != null ? result.EntityToken.EntityToken : PlayFabSettings.EntityToken;
+        PlayFabInstanceAPI.updateSession(instance, result.SessionTicket, null);
+        if (result.EntityToken != null) PlayFabInstanceAPI.updateSession(instance, null, result.EntityToken.EntityToken);
 
         PlayFabResult<LoginResult> pfResult = new PlayFabResult<LoginResult>();
         pfResult.Result = result;
@@ -6592,7 +6489,7 @@ public class PlayFabClientAPI {
     public static FutureTask<PlayFabResult<LoginResult>> LoginWithPlayFabAsync(final LoginWithPlayFabRequest request) {
         return new FutureTask(new Callable<PlayFabResult<LoginResult>>() {
             public PlayFabResult<LoginResult> call() throws Exception {
-                return privateLoginWithPlayFabAsync(request);
+                return privateLoginWithPlayFabAsync(null, request);
             }
         });
     }
@@ -6609,7 +6506,7 @@ public class PlayFabClientAPI {
     public static PlayFabResult<LoginResult> LoginWithPlayFab(final LoginWithPlayFabRequest request) {
         FutureTask<PlayFabResult<LoginResult>> task = new FutureTask(new Callable<PlayFabResult<LoginResult>>() {
             public PlayFabResult<LoginResult> call() throws Exception {
-                return privateLoginWithPlayFabAsync(request);
+                return privateLoginWithPlayFabAsync(null, request);
             }
         });
         try {
@@ -6629,11 +6526,12 @@ public class PlayFabClientAPI {
      * RegisterPlayFabUser, or added to existing accounts using AddUsernamePassword.
      */
     @SuppressWarnings("unchecked")
-    private static PlayFabResult<LoginResult> privateLoginWithPlayFabAsync(final LoginWithPlayFabRequest request) throws Exception {
-        request.TitleId = PlayFabSettings.TitleId != null ? PlayFabSettings.TitleId : request.TitleId;
+    static PlayFabResult<LoginResult> privateLoginWithPlayFabAsync(final PlayFabInstanceAPI instance, final LoginWithPlayFabRequest request) throws Exception {
+        final PlayFabApiContext context = PlayFabInstanceAPI.contextOf(instance);
+        request.TitleId = context.getTitleId() != null ? context.getTitleId() : request.TitleId;
         if (request.TitleId == null) throw new Exception ("Must be have PlayFabSettings.TitleId set to call this method");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Client/LoginWithPlayFab"), request, null, null);
+        FutureTask<Object> task = PlayFabHTTP.doPost(context.getURL("/Client/LoginWithPlayFab"), request, null, null, LoginResult.class);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -6644,12 +6542,10 @@ public class PlayFabClientAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
-
-        PlayFabJsonSuccess<LoginResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<LoginResult>>(){}.getType());
+        PlayFabJsonSuccess<LoginResult> resultData = (PlayFabJsonSuccess<LoginResult>) httpResult;
         LoginResult result = resultData.data;
-        PlayFabSettings.ClientSessionTicket = result.SessionTicket != null ? result.SessionTicket : PlayFabSettings.ClientSessionTicket;
-        if (result.EntityToken != null) PlayFabSettings.EntityToken = result.EntityToken.EntityToken != null ? result.EntityToken.EntityToken : PlayFabSettings.EntityToken;
+        PlayFabInstanceAPI.updateSession(instance, result.SessionTicket, null);
+        if (result.EntityToken != null) PlayFabInstanceAPI.updateSession(instance, null, result.EntityToken.EntityToken);
 
         PlayFabResult<LoginResult> pfResult = new PlayFabResult<LoginResult>();
         pfResult.Result = result;
@@ -6666,7 +6562,7 @@ public class PlayFabClientAPI {
     public static FutureTask<PlayFabResult<LoginResult>> LoginWithPSNAsync(final LoginWithPSNRequest request) {
         return new FutureTask(new Callable<PlayFabResult<LoginResult>>() {
             public PlayFabResult<LoginResult> call() throws Exception {
-                return privateLoginWithPSNAsync(request);
+                return privateLoginWithPSNAsync(null, request);
             }
         });
     }
@@ -6681,7 +6577,7 @@ public class PlayFabClientAPI {
     public static PlayFabResult<LoginResult> LoginWithPSN(final LoginWithPSNRequest request) {
         FutureTask<PlayFabResult<LoginResult>> task = new FutureTask(new Callable<PlayFabResult<LoginResult>>() {
             public PlayFabResult<LoginResult> call() throws Exception {
-                return privateLoginWithPSNAsync(request);
+                return privateLoginWithPSNAsync(null, request);
             }
         });
         try {
@@ -6699,11 +6595,12 @@ public class PlayFabClientAPI {
      * be used for API calls which require an authenticated user
      */
     @SuppressWarnings("unchecked")
-    private static PlayFabResult<LoginResult> privateLoginWithPSNAsync(final LoginWithPSNRequest request) throws Exception {
-        request.TitleId = PlayFabSettings.TitleId != null ? PlayFabSettings.TitleId : request.TitleId;
+    static PlayFabResult<LoginResult> privateLoginWithPSNAsync(final PlayFabInstanceAPI instance, final LoginWithPSNRequest request) throws Exception {
+        final PlayFabApiContext context = PlayFabInstanceAPI.contextOf(instance);
+        request.TitleId = context.getTitleId() != null ? context.getTitleId() : request.TitleId;
         if (request.TitleId == null) throw new Exception ("Must be have PlayFabSettings.TitleId set to call this method");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Client/LoginWithPSN"), request, null, null);
+        FutureTask<Object> task = PlayFabHTTP.doPost(context.getURL("/Client/LoginWithPSN"), request, null, null, LoginResult.class);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -6714,12 +6611,10 @@ public class PlayFabClientAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
-
-        PlayFabJsonSuccess<LoginResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<LoginResult>>(){}.getType());
+        PlayFabJsonSuccess<LoginResult> resultData = (PlayFabJsonSuccess<LoginResult>) httpResult;
         LoginResult result = resultData.data;
-        PlayFabSettings.ClientSessionTicket = result.SessionTicket != null ? result.SessionTicket : PlayFabSettings.ClientSessionTicket;
-        if (result.EntityToken != null) PlayFabSettings.EntityToken = result.EntityToken.EntityToken != null ? result.EntityToken.EntityToken : PlayFabSettings.EntityToken;
+        PlayFabInstanceAPI.updateSession(instance, result.SessionTicket, null);
+        if (result.EntityToken != null) PlayFabInstanceAPI.updateSession(instance, null, result.EntityToken.EntityToken);
 
         PlayFabResult<LoginResult> pfResult = new PlayFabResult<LoginResult>();
         pfResult.Result = result;
@@ -6736,7 +6631,7 @@ public class PlayFabClientAPI {
     public static FutureTask<PlayFabResult<LoginResult>> LoginWithSteamAsync(final LoginWithSteamRequest request) {
         return new FutureTask(new Callable<PlayFabResult<LoginResult>>() {
             public PlayFabResult<LoginResult> call() throws Exception {
-                return privateLoginWithSteamAsync(request);
+                return privateLoginWithSteamAsync(null, request);
             }
         });
     }
@@ -6751,7 +6646,7 @@ public class PlayFabClientAPI {
     public static PlayFabResult<LoginResult> LoginWithSteam(final LoginWithSteamRequest request) {
         FutureTask<PlayFabResult<LoginResult>> task = new FutureTask(new Callable<PlayFabResult<LoginResult>>() {
             public PlayFabResult<LoginResult> call() throws Exception {
-                return privateLoginWithSteamAsync(request);
+                return privateLoginWithSteamAsync(null, request);
             }
         });
         try {
@@ -6769,11 +6664,12 @@ public class PlayFabClientAPI {
      * API calls which require an authenticated user
      */
     @SuppressWarnings("unchecked")
-    private static PlayFabResult<LoginResult> privateLoginWithSteamAsync(final LoginWithSteamRequest request) throws Exception {
-        request.TitleId = PlayFabSettings.TitleId != null ? PlayFabSettings.TitleId : request.TitleId;
+    static PlayFabResult<LoginResult> privateLoginWithSteamAsync(final PlayFabInstanceAPI instance, final LoginWithSteamRequest request) throws Exception {
+        final PlayFabApiContext context = PlayFabInstanceAPI.contextOf(instance);
+        request.TitleId = context.getTitleId() != null ? context.getTitleId() : request.TitleId;
         if (request.TitleId == null) throw new Exception ("Must be have PlayFabSettings.TitleId set to call this method");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Client/LoginWithSteam"), request, null, null);
+        FutureTask<Object> task = PlayFabHTTP.doPost(context.getURL("/Client/LoginWithSteam"), request, null, null, LoginResult.class);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -6784,12 +6680,10 @@ public class PlayFabClientAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
-
-        PlayFabJsonSuccess<LoginResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<LoginResult>>(){}.getType());
+        PlayFabJsonSuccess<LoginResult> resultData = (PlayFabJsonSuccess<LoginResult>) httpResult;
         LoginResult result = resultData.data;
-        PlayFabSettings.ClientSessionTicket = result.SessionTicket != null ? result.SessionTicket : PlayFabSettings.ClientSessionTicket;
-        if (result.EntityToken != null) PlayFabSettings.EntityToken = result.EntityToken.EntityToken != null ? result.EntityToken.EntityToken : PlayFabSettings.EntityToken;
+        PlayFabInstanceAPI.updateSession(instance, result.SessionTicket, null);
+        if (result.EntityToken != null) PlayFabInstanceAPI.updateSession(instance, null, result.EntityToken.EntityToken);
 
         PlayFabResult<LoginResult> pfResult = new PlayFabResult<LoginResult>();
         pfResult.Result = result;
@@ -6805,7 +6699,7 @@ public class PlayFabClientAPI {
     public static FutureTask<PlayFabResult<LoginResult>> LoginWithTwitchAsync(final LoginWithTwitchRequest request) {
         return new FutureTask(new Callable<PlayFabResult<LoginResult>>() {
             public PlayFabResult<LoginResult> call() throws Exception {
-                return privateLoginWithTwitchAsync(request);
+                return privateLoginWithTwitchAsync(null, request);
             }
         });
     }
@@ -6819,7 +6713,7 @@ public class PlayFabClientAPI {
     public static PlayFabResult<LoginResult> LoginWithTwitch(final LoginWithTwitchRequest request) {
         FutureTask<PlayFabResult<LoginResult>> task = new FutureTask(new Callable<PlayFabResult<LoginResult>>() {
             public PlayFabResult<LoginResult> call() throws Exception {
-                return privateLoginWithTwitchAsync(request);
+                return privateLoginWithTwitchAsync(null, request);
             }
         });
         try {
@@ -6834,11 +6728,12 @@ public class PlayFabClientAPI {
 
     /** Signs the user in using a Twitch access token. */
     @SuppressWarnings("unchecked")
-    private static PlayFabResult<LoginResult> privateLoginWithTwitchAsync(final LoginWithTwitchRequest request) throws Exception {
-        request.TitleId = PlayFabSettings.TitleId != null ? PlayFabSettings.TitleId : request.TitleId;
+    static PlayFabResult<LoginResult> privateLoginWithTwitchAsync(final PlayFabInstanceAPI instance, final LoginWithTwitchRequest request) throws Exception {
+        final PlayFabApiContext context = PlayFabInstanceAPI.contextOf(instance);
+        request.TitleId = context.getTitleId() != null ? context.getTitleId() : request.TitleId;
         if (request.TitleId == null) throw new Exception ("Must be have PlayFabSettings.TitleId set to call this method");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Client/LoginWithTwitch"), request, null, null);
+        FutureTask<Object> task = PlayFabHTTP.doPost(context.getURL("/Client/LoginWithTwitch"), request, null, null, LoginResult.class);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -6849,12 +6744,10 @@ public class PlayFabClientAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
-
-        PlayFabJsonSuccess<LoginResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<LoginResult>>(){}.getType());
+        PlayFabJsonSuccess<LoginResult> resultData = (PlayFabJsonSuccess<LoginResult>) httpResult;
         LoginResult result = resultData.data;
-        PlayFabSettings.ClientSessionTicket = result.SessionTicket != null ? result.SessionTicket : PlayFabSettings.ClientSessionTicket;
-        if (result.EntityToken != null) PlayFabSettings.EntityToken = result.EntityToken.EntityToken != null ? result.EntityToken.EntityToken : PlayFabSettings.EntityToken;
+        PlayFabInstanceAPI.updateSession(instance, result.SessionTicket, null);
+        if (result.EntityToken != null) PlayFabInstanceAPI.updateSession(instance, null, result.EntityToken.EntityToken);
 
         PlayFabResult<LoginResult> pfResult = new PlayFabResult<LoginResult>();
         pfResult.Result = result;
@@ -6871,7 +6764,7 @@ public class PlayFabClientAPI {
     public static FutureTask<PlayFabResult<LoginResult>> LoginWithXboxAsync(final LoginWithXboxRequest request) {
         return new FutureTask(new Callable<PlayFabResult<LoginResult>>() {
             public PlayFabResult<LoginResult> call() throws Exception {
-                return privateLoginWithXboxAsync(request);
+                return privateLoginWithXboxAsync(null, request);
             }
         });
     }
@@ -6886,7 +6779,7 @@ public class PlayFabClientAPI {
     public static PlayFabResult<LoginResult> LoginWithXbox(final LoginWithXboxRequest request) {
         FutureTask<PlayFabResult<LoginResult>> task = new FutureTask(new Callable<PlayFabResult<LoginResult>>() {
             public PlayFabResult<LoginResult> call() throws Exception {
-                return privateLoginWithXboxAsync(request);
+                return privateLoginWithXboxAsync(null, request);
             }
         });
         try {
@@ -6904,11 +6797,12 @@ public class PlayFabClientAPI {
      * which require an authenticated user
      */
     @SuppressWarnings("unchecked")
-    private static PlayFabResult<LoginResult> privateLoginWithXboxAsync(final LoginWithXboxRequest request) throws Exception {
-        request.TitleId = PlayFabSettings.TitleId != null ? PlayFabSettings.TitleId : request.TitleId;
+    static PlayFabResult<LoginResult> privateLoginWithXboxAsync(final PlayFabInstanceAPI instance, final LoginWithXboxRequest request) throws Exception {
+        final PlayFabApiContext context = PlayFabInstanceAPI.contextOf(instance);
+        request.TitleId = context.getTitleId() != null ? context.getTitleId() : request.TitleId;
         if (request.TitleId == null) throw new Exception ("Must be have PlayFabSettings.TitleId set to call this method");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Client/LoginWithXbox"), request, null, null);
+        FutureTask<Object> task = PlayFabHTTP.doPost(context.getURL("/Client/LoginWithXbox"), request, null, null, LoginResult.class);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -6919,12 +6813,10 @@ public class PlayFabClientAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
-
-        PlayFabJsonSuccess<LoginResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<LoginResult>>(){}.getType());
+        PlayFabJsonSuccess<LoginResult> resultData = (PlayFabJsonSuccess<LoginResult>) httpResult;
         LoginResult result = resultData.data;
-        PlayFabSettings.ClientSessionTicket = result.SessionTicket != null ? result.SessionTicket : PlayFabSettings.ClientSessionTicket;
-        if (result.EntityToken != null) PlayFabSettings.EntityToken = result.EntityToken.EntityToken != null ? result.EntityToken.EntityToken : PlayFabSettings.EntityToken;
+        PlayFabInstanceAPI.updateSession(instance, result.SessionTicket, null);
+        if (result.EntityToken != null) PlayFabInstanceAPI.updateSession(instance, null, result.EntityToken.EntityToken);
 
         PlayFabResult<LoginResult> pfResult = new PlayFabResult<LoginResult>();
         pfResult.Result = result;
@@ -6945,7 +6837,7 @@ public class PlayFabClientAPI {
     public static FutureTask<PlayFabResult<MatchmakeResult>> MatchmakeAsync(final MatchmakeRequest request) {
         return new FutureTask(new Callable<PlayFabResult<MatchmakeResult>>() {
             public PlayFabResult<MatchmakeResult> call() throws Exception {
-                return privateMatchmakeAsync(request);
+                return privateMatchmakeAsync(null, request);
             }
         });
     }
@@ -6964,7 +6856,7 @@ public class PlayFabClientAPI {
     public static PlayFabResult<MatchmakeResult> Matchmake(final MatchmakeRequest request) {
         FutureTask<PlayFabResult<MatchmakeResult>> task = new FutureTask(new Callable<PlayFabResult<MatchmakeResult>>() {
             public PlayFabResult<MatchmakeResult> call() throws Exception {
-                return privateMatchmakeAsync(request);
+                return privateMatchmakeAsync(null, request);
             }
         });
         try {
@@ -6986,10 +6878,11 @@ public class PlayFabClientAPI {
      * GameNotFound.
      */
     @SuppressWarnings("unchecked")
-    private static PlayFabResult<MatchmakeResult> privateMatchmakeAsync(final MatchmakeRequest request) throws Exception {
-        if (PlayFabSettings.ClientSessionTicket == null) throw new Exception ("Must be logged in to call this method");
+    static PlayFabResult<MatchmakeResult> privateMatchmakeAsync(final PlayFabInstanceAPI instance, final MatchmakeRequest request) throws Exception {
+        final PlayFabApiContext context = PlayFabInstanceAPI.contextOf(instance);
+        if (context.getClientSessionTicket() == null) throw new Exception ("Must be logged in to call this method");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Client/Matchmake"), request, "X-Authorization", PlayFabSettings.ClientSessionTicket);
+        FutureTask<Object> task = PlayFabHTTP.doPost(context.getURL("/Client/Matchmake"), request, "X-Authorization", context.getClientSessionTicket(), MatchmakeResult.class);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -7000,9 +6893,7 @@ public class PlayFabClientAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
-
-        PlayFabJsonSuccess<MatchmakeResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<MatchmakeResult>>(){}.getType());
+        PlayFabJsonSuccess<MatchmakeResult> resultData = (PlayFabJsonSuccess<MatchmakeResult>) httpResult;
         MatchmakeResult result = resultData.data;
 
         PlayFabResult<MatchmakeResult> pfResult = new PlayFabResult<MatchmakeResult>();
@@ -7019,7 +6910,7 @@ public class PlayFabClientAPI {
     public static FutureTask<PlayFabResult<OpenTradeResponse>> OpenTradeAsync(final OpenTradeRequest request) {
         return new FutureTask(new Callable<PlayFabResult<OpenTradeResponse>>() {
             public PlayFabResult<OpenTradeResponse> call() throws Exception {
-                return privateOpenTradeAsync(request);
+                return privateOpenTradeAsync(null, request);
             }
         });
     }
@@ -7033,7 +6924,7 @@ public class PlayFabClientAPI {
     public static PlayFabResult<OpenTradeResponse> OpenTrade(final OpenTradeRequest request) {
         FutureTask<PlayFabResult<OpenTradeResponse>> task = new FutureTask(new Callable<PlayFabResult<OpenTradeResponse>>() {
             public PlayFabResult<OpenTradeResponse> call() throws Exception {
-                return privateOpenTradeAsync(request);
+                return privateOpenTradeAsync(null, request);
             }
         });
         try {
@@ -7048,10 +6939,11 @@ public class PlayFabClientAPI {
 
     /** Opens a new outstanding trade. Note that a given item instance may only be in one open trade at a time. */
     @SuppressWarnings("unchecked")
-    private static PlayFabResult<OpenTradeResponse> privateOpenTradeAsync(final OpenTradeRequest request) throws Exception {
-        if (PlayFabSettings.ClientSessionTicket == null) throw new Exception ("Must be logged in to call this method");
+    static PlayFabResult<OpenTradeResponse> privateOpenTradeAsync(final PlayFabInstanceAPI instance, final OpenTradeRequest request) throws Exception {
+        final PlayFabApiContext context = PlayFabInstanceAPI.contextOf(instance);
+        if (context.getClientSessionTicket() == null) throw new Exception ("Must be logged in to call this method");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Client/OpenTrade"), request, "X-Authorization", PlayFabSettings.ClientSessionTicket);
+        FutureTask<Object> task = PlayFabHTTP.doPost(context.getURL("/Client/OpenTrade"), request, "X-Authorization", context.getClientSessionTicket(), OpenTradeResponse.class);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -7062,9 +6954,7 @@ public class PlayFabClientAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
-
-        PlayFabJsonSuccess<OpenTradeResponse> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<OpenTradeResponse>>(){}.getType());
+        PlayFabJsonSuccess<OpenTradeResponse> resultData = (PlayFabJsonSuccess<OpenTradeResponse>) httpResult;
         OpenTradeResponse result = resultData.data;
 
         PlayFabResult<OpenTradeResponse> pfResult = new PlayFabResult<OpenTradeResponse>();
@@ -7081,7 +6971,7 @@ public class PlayFabClientAPI {
     public static FutureTask<PlayFabResult<PayForPurchaseResult>> PayForPurchaseAsync(final PayForPurchaseRequest request) {
         return new FutureTask(new Callable<PlayFabResult<PayForPurchaseResult>>() {
             public PlayFabResult<PayForPurchaseResult> call() throws Exception {
-                return privatePayForPurchaseAsync(request);
+                return privatePayForPurchaseAsync(null, request);
             }
         });
     }
@@ -7095,7 +6985,7 @@ public class PlayFabClientAPI {
     public static PlayFabResult<PayForPurchaseResult> PayForPurchase(final PayForPurchaseRequest request) {
         FutureTask<PlayFabResult<PayForPurchaseResult>> task = new FutureTask(new Callable<PlayFabResult<PayForPurchaseResult>>() {
             public PlayFabResult<PayForPurchaseResult> call() throws Exception {
-                return privatePayForPurchaseAsync(request);
+                return privatePayForPurchaseAsync(null, request);
             }
         });
         try {
@@ -7110,10 +7000,11 @@ public class PlayFabClientAPI {
 
     /** Selects a payment option for purchase order created via StartPurchase */
     @SuppressWarnings("unchecked")
-    private static PlayFabResult<PayForPurchaseResult> privatePayForPurchaseAsync(final PayForPurchaseRequest request) throws Exception {
-        if (PlayFabSettings.ClientSessionTicket == null) throw new Exception ("Must be logged in to call this method");
+    static PlayFabResult<PayForPurchaseResult> privatePayForPurchaseAsync(final PlayFabInstanceAPI instance, final PayForPurchaseRequest request) throws Exception {
+        final PlayFabApiContext context = PlayFabInstanceAPI.contextOf(instance);
+        if (context.getClientSessionTicket() == null) throw new Exception ("Must be logged in to call this method");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Client/PayForPurchase"), request, "X-Authorization", PlayFabSettings.ClientSessionTicket);
+        FutureTask<Object> task = PlayFabHTTP.doPost(context.getURL("/Client/PayForPurchase"), request, "X-Authorization", context.getClientSessionTicket(), PayForPurchaseResult.class);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -7124,9 +7015,7 @@ public class PlayFabClientAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
-
-        PlayFabJsonSuccess<PayForPurchaseResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<PayForPurchaseResult>>(){}.getType());
+        PlayFabJsonSuccess<PayForPurchaseResult> resultData = (PlayFabJsonSuccess<PayForPurchaseResult>) httpResult;
         PayForPurchaseResult result = resultData.data;
 
         PlayFabResult<PayForPurchaseResult> pfResult = new PlayFabResult<PayForPurchaseResult>();
@@ -7144,7 +7033,7 @@ public class PlayFabClientAPI {
     public static FutureTask<PlayFabResult<PurchaseItemResult>> PurchaseItemAsync(final PurchaseItemRequest request) {
         return new FutureTask(new Callable<PlayFabResult<PurchaseItemResult>>() {
             public PlayFabResult<PurchaseItemResult> call() throws Exception {
-                return privatePurchaseItemAsync(request);
+                return privatePurchaseItemAsync(null, request);
             }
         });
     }
@@ -7159,7 +7048,7 @@ public class PlayFabClientAPI {
     public static PlayFabResult<PurchaseItemResult> PurchaseItem(final PurchaseItemRequest request) {
         FutureTask<PlayFabResult<PurchaseItemResult>> task = new FutureTask(new Callable<PlayFabResult<PurchaseItemResult>>() {
             public PlayFabResult<PurchaseItemResult> call() throws Exception {
-                return privatePurchaseItemAsync(request);
+                return privatePurchaseItemAsync(null, request);
             }
         });
         try {
@@ -7177,10 +7066,11 @@ public class PlayFabClientAPI {
      * the client believes the price to be. This lets the server fail the purchase if the price has changed.
      */
     @SuppressWarnings("unchecked")
-    private static PlayFabResult<PurchaseItemResult> privatePurchaseItemAsync(final PurchaseItemRequest request) throws Exception {
-        if (PlayFabSettings.ClientSessionTicket == null) throw new Exception ("Must be logged in to call this method");
+    static PlayFabResult<PurchaseItemResult> privatePurchaseItemAsync(final PlayFabInstanceAPI instance, final PurchaseItemRequest request) throws Exception {
+        final PlayFabApiContext context = PlayFabInstanceAPI.contextOf(instance);
+        if (context.getClientSessionTicket() == null) throw new Exception ("Must be logged in to call this method");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Client/PurchaseItem"), request, "X-Authorization", PlayFabSettings.ClientSessionTicket);
+        FutureTask<Object> task = PlayFabHTTP.doPost(context.getURL("/Client/PurchaseItem"), request, "X-Authorization", context.getClientSessionTicket(), PurchaseItemResult.class);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -7191,9 +7081,7 @@ public class PlayFabClientAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
-
-        PlayFabJsonSuccess<PurchaseItemResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<PurchaseItemResult>>(){}.getType());
+        PlayFabJsonSuccess<PurchaseItemResult> resultData = (PlayFabJsonSuccess<PurchaseItemResult>) httpResult;
         PurchaseItemResult result = resultData.data;
 
         PlayFabResult<PurchaseItemResult> pfResult = new PlayFabResult<PurchaseItemResult>();
@@ -7211,7 +7099,7 @@ public class PlayFabClientAPI {
     public static FutureTask<PlayFabResult<RedeemCouponResult>> RedeemCouponAsync(final RedeemCouponRequest request) {
         return new FutureTask(new Callable<PlayFabResult<RedeemCouponResult>>() {
             public PlayFabResult<RedeemCouponResult> call() throws Exception {
-                return privateRedeemCouponAsync(request);
+                return privateRedeemCouponAsync(null, request);
             }
         });
     }
@@ -7226,7 +7114,7 @@ public class PlayFabClientAPI {
     public static PlayFabResult<RedeemCouponResult> RedeemCoupon(final RedeemCouponRequest request) {
         FutureTask<PlayFabResult<RedeemCouponResult>> task = new FutureTask(new Callable<PlayFabResult<RedeemCouponResult>>() {
             public PlayFabResult<RedeemCouponResult> call() throws Exception {
-                return privateRedeemCouponAsync(request);
+                return privateRedeemCouponAsync(null, request);
             }
         });
         try {
@@ -7244,10 +7132,11 @@ public class PlayFabClientAPI {
      * Economy-&gt;Catalogs tab in the PlayFab Game Manager.
      */
     @SuppressWarnings("unchecked")
-    private static PlayFabResult<RedeemCouponResult> privateRedeemCouponAsync(final RedeemCouponRequest request) throws Exception {
-        if (PlayFabSettings.ClientSessionTicket == null) throw new Exception ("Must be logged in to call this method");
+    static PlayFabResult<RedeemCouponResult> privateRedeemCouponAsync(final PlayFabInstanceAPI instance, final RedeemCouponRequest request) throws Exception {
+        final PlayFabApiContext context = PlayFabInstanceAPI.contextOf(instance);
+        if (context.getClientSessionTicket() == null) throw new Exception ("Must be logged in to call this method");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Client/RedeemCoupon"), request, "X-Authorization", PlayFabSettings.ClientSessionTicket);
+        FutureTask<Object> task = PlayFabHTTP.doPost(context.getURL("/Client/RedeemCoupon"), request, "X-Authorization", context.getClientSessionTicket(), RedeemCouponResult.class);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -7258,9 +7147,7 @@ public class PlayFabClientAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
-
-        PlayFabJsonSuccess<RedeemCouponResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<RedeemCouponResult>>(){}.getType());
+        PlayFabJsonSuccess<RedeemCouponResult> resultData = (PlayFabJsonSuccess<RedeemCouponResult>) httpResult;
         RedeemCouponResult result = resultData.data;
 
         PlayFabResult<RedeemCouponResult> pfResult = new PlayFabResult<RedeemCouponResult>();
@@ -7277,7 +7164,7 @@ public class PlayFabClientAPI {
     public static FutureTask<PlayFabResult<EmptyResponse>> RefreshPSNAuthTokenAsync(final RefreshPSNAuthTokenRequest request) {
         return new FutureTask(new Callable<PlayFabResult<EmptyResponse>>() {
             public PlayFabResult<EmptyResponse> call() throws Exception {
-                return privateRefreshPSNAuthTokenAsync(request);
+                return privateRefreshPSNAuthTokenAsync(null, request);
             }
         });
     }
@@ -7291,7 +7178,7 @@ public class PlayFabClientAPI {
     public static PlayFabResult<EmptyResponse> RefreshPSNAuthToken(final RefreshPSNAuthTokenRequest request) {
         FutureTask<PlayFabResult<EmptyResponse>> task = new FutureTask(new Callable<PlayFabResult<EmptyResponse>>() {
             public PlayFabResult<EmptyResponse> call() throws Exception {
-                return privateRefreshPSNAuthTokenAsync(request);
+                return privateRefreshPSNAuthTokenAsync(null, request);
             }
         });
         try {
@@ -7306,10 +7193,11 @@ public class PlayFabClientAPI {
 
     /** Uses the supplied OAuth code to refresh the internally cached player PSN auth token */
     @SuppressWarnings("unchecked")
-    private static PlayFabResult<EmptyResponse> privateRefreshPSNAuthTokenAsync(final RefreshPSNAuthTokenRequest request) throws Exception {
-        if (PlayFabSettings.ClientSessionTicket == null) throw new Exception ("Must be logged in to call this method");
+    static PlayFabResult<EmptyResponse> privateRefreshPSNAuthTokenAsync(final PlayFabInstanceAPI instance, final RefreshPSNAuthTokenRequest request) throws Exception {
+        final PlayFabApiContext context = PlayFabInstanceAPI.contextOf(instance);
+        if (context.getClientSessionTicket() == null) throw new Exception ("Must be logged in to call this method");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Client/RefreshPSNAuthToken"), request, "X-Authorization", PlayFabSettings.ClientSessionTicket);
+        FutureTask<Object> task = PlayFabHTTP.doPost(context.getURL("/Client/RefreshPSNAuthToken"), request, "X-Authorization", context.getClientSessionTicket(), EmptyResponse.class);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -7320,9 +7208,7 @@ public class PlayFabClientAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
-
-        PlayFabJsonSuccess<EmptyResponse> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<EmptyResponse>>(){}.getType());
+        PlayFabJsonSuccess<EmptyResponse> resultData = (PlayFabJsonSuccess<EmptyResponse>) httpResult;
         EmptyResponse result = resultData.data;
 
         PlayFabResult<EmptyResponse> pfResult = new PlayFabResult<EmptyResponse>();
@@ -7339,7 +7225,7 @@ public class PlayFabClientAPI {
     public static FutureTask<PlayFabResult<RegisterForIOSPushNotificationResult>> RegisterForIOSPushNotificationAsync(final RegisterForIOSPushNotificationRequest request) {
         return new FutureTask(new Callable<PlayFabResult<RegisterForIOSPushNotificationResult>>() {
             public PlayFabResult<RegisterForIOSPushNotificationResult> call() throws Exception {
-                return privateRegisterForIOSPushNotificationAsync(request);
+                return privateRegisterForIOSPushNotificationAsync(null, request);
             }
         });
     }
@@ -7353,7 +7239,7 @@ public class PlayFabClientAPI {
     public static PlayFabResult<RegisterForIOSPushNotificationResult> RegisterForIOSPushNotification(final RegisterForIOSPushNotificationRequest request) {
         FutureTask<PlayFabResult<RegisterForIOSPushNotificationResult>> task = new FutureTask(new Callable<PlayFabResult<RegisterForIOSPushNotificationResult>>() {
             public PlayFabResult<RegisterForIOSPushNotificationResult> call() throws Exception {
-                return privateRegisterForIOSPushNotificationAsync(request);
+                return privateRegisterForIOSPushNotificationAsync(null, request);
             }
         });
         try {
@@ -7368,10 +7254,11 @@ public class PlayFabClientAPI {
 
     /** Registers the iOS device to receive push notifications */
     @SuppressWarnings("unchecked")
-    private static PlayFabResult<RegisterForIOSPushNotificationResult> privateRegisterForIOSPushNotificationAsync(final RegisterForIOSPushNotificationRequest request) throws Exception {
-        if (PlayFabSettings.ClientSessionTicket == null) throw new Exception ("Must be logged in to call this method");
+    static PlayFabResult<RegisterForIOSPushNotificationResult> privateRegisterForIOSPushNotificationAsync(final PlayFabInstanceAPI instance, final RegisterForIOSPushNotificationRequest request) throws Exception {
+        final PlayFabApiContext context = PlayFabInstanceAPI.contextOf(instance);
+        if (context.getClientSessionTicket() == null) throw new Exception ("Must be logged in to call this method");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Client/RegisterForIOSPushNotification"), request, "X-Authorization", PlayFabSettings.ClientSessionTicket);
+        FutureTask<Object> task = PlayFabHTTP.doPost(context.getURL("/Client/RegisterForIOSPushNotification"), request, "X-Authorization", context.getClientSessionTicket(), RegisterForIOSPushNotificationResult.class);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -7382,9 +7269,7 @@ public class PlayFabClientAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
-
-        PlayFabJsonSuccess<RegisterForIOSPushNotificationResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<RegisterForIOSPushNotificationResult>>(){}.getType());
+        PlayFabJsonSuccess<RegisterForIOSPushNotificationResult> resultData = (PlayFabJsonSuccess<RegisterForIOSPushNotificationResult>) httpResult;
         RegisterForIOSPushNotificationResult result = resultData.data;
 
         PlayFabResult<RegisterForIOSPushNotificationResult> pfResult = new PlayFabResult<RegisterForIOSPushNotificationResult>();
@@ -7402,7 +7287,7 @@ public class PlayFabClientAPI {
     public static FutureTask<PlayFabResult<RegisterPlayFabUserResult>> RegisterPlayFabUserAsync(final RegisterPlayFabUserRequest request) {
         return new FutureTask(new Callable<PlayFabResult<RegisterPlayFabUserResult>>() {
             public PlayFabResult<RegisterPlayFabUserResult> call() throws Exception {
-                return privateRegisterPlayFabUserAsync(request);
+                return privateRegisterPlayFabUserAsync(null, request);
             }
         });
     }
@@ -7417,7 +7302,7 @@ public class PlayFabClientAPI {
     public static PlayFabResult<RegisterPlayFabUserResult> RegisterPlayFabUser(final RegisterPlayFabUserRequest request) {
         FutureTask<PlayFabResult<RegisterPlayFabUserResult>> task = new FutureTask(new Callable<PlayFabResult<RegisterPlayFabUserResult>>() {
             public PlayFabResult<RegisterPlayFabUserResult> call() throws Exception {
-                return privateRegisterPlayFabUserAsync(request);
+                return privateRegisterPlayFabUserAsync(null, request);
             }
         });
         try {
@@ -7435,11 +7320,12 @@ public class PlayFabClientAPI {
      * require an authenticated user. You must supply either a username or an email address.
      */
     @SuppressWarnings("unchecked")
-    private static PlayFabResult<RegisterPlayFabUserResult> privateRegisterPlayFabUserAsync(final RegisterPlayFabUserRequest request) throws Exception {
-        request.TitleId = PlayFabSettings.TitleId != null ? PlayFabSettings.TitleId : request.TitleId;
+    static PlayFabResult<RegisterPlayFabUserResult> privateRegisterPlayFabUserAsync(final PlayFabInstanceAPI instance, final RegisterPlayFabUserRequest request) throws Exception {
+        final PlayFabApiContext context = PlayFabInstanceAPI.contextOf(instance);
+        request.TitleId = context.getTitleId() != null ? context.getTitleId() : request.TitleId;
         if (request.TitleId == null) throw new Exception ("Must be have PlayFabSettings.TitleId set to call this method");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Client/RegisterPlayFabUser"), request, null, null);
+        FutureTask<Object> task = PlayFabHTTP.doPost(context.getURL("/Client/RegisterPlayFabUser"), request, null, null, RegisterPlayFabUserResult.class);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -7450,11 +7336,9 @@ public class PlayFabClientAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
-
-        PlayFabJsonSuccess<RegisterPlayFabUserResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<RegisterPlayFabUserResult>>(){}.getType());
+        PlayFabJsonSuccess<RegisterPlayFabUserResult> resultData = (PlayFabJsonSuccess<RegisterPlayFabUserResult>) httpResult;
         RegisterPlayFabUserResult result = resultData.data;
-        PlayFabSettings.ClientSessionTicket = result.SessionTicket != null ? result.SessionTicket : PlayFabSettings.ClientSessionTicket;
+        PlayFabInstanceAPI.updateSession(instance, result.SessionTicket, null);
 
         PlayFabResult<RegisterPlayFabUserResult> pfResult = new PlayFabResult<RegisterPlayFabUserResult>();
         pfResult.Result = result;
@@ -7470,7 +7354,7 @@ public class PlayFabClientAPI {
     public static FutureTask<PlayFabResult<RemoveContactEmailResult>> RemoveContactEmailAsync(final RemoveContactEmailRequest request) {
         return new FutureTask(new Callable<PlayFabResult<RemoveContactEmailResult>>() {
             public PlayFabResult<RemoveContactEmailResult> call() throws Exception {
-                return privateRemoveContactEmailAsync(request);
+                return privateRemoveContactEmailAsync(null, request);
             }
         });
     }
@@ -7484,7 +7368,7 @@ public class PlayFabClientAPI {
     public static PlayFabResult<RemoveContactEmailResult> RemoveContactEmail(final RemoveContactEmailRequest request) {
         FutureTask<PlayFabResult<RemoveContactEmailResult>> task = new FutureTask(new Callable<PlayFabResult<RemoveContactEmailResult>>() {
             public PlayFabResult<RemoveContactEmailResult> call() throws Exception {
-                return privateRemoveContactEmailAsync(request);
+                return privateRemoveContactEmailAsync(null, request);
             }
         });
         try {
@@ -7499,10 +7383,11 @@ public class PlayFabClientAPI {
 
     /** Removes a contact email from the player's profile. */
     @SuppressWarnings("unchecked")
-    private static PlayFabResult<RemoveContactEmailResult> privateRemoveContactEmailAsync(final RemoveContactEmailRequest request) throws Exception {
-        if (PlayFabSettings.ClientSessionTicket == null) throw new Exception ("Must be logged in to call this method");
+    static PlayFabResult<RemoveContactEmailResult> privateRemoveContactEmailAsync(final PlayFabInstanceAPI instance, final RemoveContactEmailRequest request) throws Exception {
+        final PlayFabApiContext context = PlayFabInstanceAPI.contextOf(instance);
+        if (context.getClientSessionTicket() == null) throw new Exception ("Must be logged in to call this method");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Client/RemoveContactEmail"), request, "X-Authorization", PlayFabSettings.ClientSessionTicket);
+        FutureTask<Object> task = PlayFabHTTP.doPost(context.getURL("/Client/RemoveContactEmail"), request, "X-Authorization", context.getClientSessionTicket(), RemoveContactEmailResult.class);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -7513,9 +7398,7 @@ public class PlayFabClientAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
-
-        PlayFabJsonSuccess<RemoveContactEmailResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<RemoveContactEmailResult>>(){}.getType());
+        PlayFabJsonSuccess<RemoveContactEmailResult> resultData = (PlayFabJsonSuccess<RemoveContactEmailResult>) httpResult;
         RemoveContactEmailResult result = resultData.data;
 
         PlayFabResult<RemoveContactEmailResult> pfResult = new PlayFabResult<RemoveContactEmailResult>();
@@ -7532,7 +7415,7 @@ public class PlayFabClientAPI {
     public static FutureTask<PlayFabResult<RemoveFriendResult>> RemoveFriendAsync(final RemoveFriendRequest request) {
         return new FutureTask(new Callable<PlayFabResult<RemoveFriendResult>>() {
             public PlayFabResult<RemoveFriendResult> call() throws Exception {
-                return privateRemoveFriendAsync(request);
+                return privateRemoveFriendAsync(null, request);
             }
         });
     }
@@ -7546,7 +7429,7 @@ public class PlayFabClientAPI {
     public static PlayFabResult<RemoveFriendResult> RemoveFriend(final RemoveFriendRequest request) {
         FutureTask<PlayFabResult<RemoveFriendResult>> task = new FutureTask(new Callable<PlayFabResult<RemoveFriendResult>>() {
             public PlayFabResult<RemoveFriendResult> call() throws Exception {
-                return privateRemoveFriendAsync(request);
+                return privateRemoveFriendAsync(null, request);
             }
         });
         try {
@@ -7561,10 +7444,11 @@ public class PlayFabClientAPI {
 
     /** Removes a specified user from the friend list of the local user */
     @SuppressWarnings("unchecked")
-    private static PlayFabResult<RemoveFriendResult> privateRemoveFriendAsync(final RemoveFriendRequest request) throws Exception {
-        if (PlayFabSettings.ClientSessionTicket == null) throw new Exception ("Must be logged in to call this method");
+    static PlayFabResult<RemoveFriendResult> privateRemoveFriendAsync(final PlayFabInstanceAPI instance, final RemoveFriendRequest request) throws Exception {
+        final PlayFabApiContext context = PlayFabInstanceAPI.contextOf(instance);
+        if (context.getClientSessionTicket() == null) throw new Exception ("Must be logged in to call this method");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Client/RemoveFriend"), request, "X-Authorization", PlayFabSettings.ClientSessionTicket);
+        FutureTask<Object> task = PlayFabHTTP.doPost(context.getURL("/Client/RemoveFriend"), request, "X-Authorization", context.getClientSessionTicket(), RemoveFriendResult.class);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -7575,9 +7459,7 @@ public class PlayFabClientAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
-
-        PlayFabJsonSuccess<RemoveFriendResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<RemoveFriendResult>>(){}.getType());
+        PlayFabJsonSuccess<RemoveFriendResult> resultData = (PlayFabJsonSuccess<RemoveFriendResult>) httpResult;
         RemoveFriendResult result = resultData.data;
 
         PlayFabResult<RemoveFriendResult> pfResult = new PlayFabResult<RemoveFriendResult>();
@@ -7594,7 +7476,7 @@ public class PlayFabClientAPI {
     public static FutureTask<PlayFabResult<RemoveGenericIDResult>> RemoveGenericIDAsync(final RemoveGenericIDRequest request) {
         return new FutureTask(new Callable<PlayFabResult<RemoveGenericIDResult>>() {
             public PlayFabResult<RemoveGenericIDResult> call() throws Exception {
-                return privateRemoveGenericIDAsync(request);
+                return privateRemoveGenericIDAsync(null, request);
             }
         });
     }
@@ -7608,7 +7490,7 @@ public class PlayFabClientAPI {
     public static PlayFabResult<RemoveGenericIDResult> RemoveGenericID(final RemoveGenericIDRequest request) {
         FutureTask<PlayFabResult<RemoveGenericIDResult>> task = new FutureTask(new Callable<PlayFabResult<RemoveGenericIDResult>>() {
             public PlayFabResult<RemoveGenericIDResult> call() throws Exception {
-                return privateRemoveGenericIDAsync(request);
+                return privateRemoveGenericIDAsync(null, request);
             }
         });
         try {
@@ -7623,10 +7505,11 @@ public class PlayFabClientAPI {
 
     /** Removes the specified generic service identifier from the player's PlayFab account. */
     @SuppressWarnings("unchecked")
-    private static PlayFabResult<RemoveGenericIDResult> privateRemoveGenericIDAsync(final RemoveGenericIDRequest request) throws Exception {
-        if (PlayFabSettings.ClientSessionTicket == null) throw new Exception ("Must be logged in to call this method");
+    static PlayFabResult<RemoveGenericIDResult> privateRemoveGenericIDAsync(final PlayFabInstanceAPI instance, final RemoveGenericIDRequest request) throws Exception {
+        final PlayFabApiContext context = PlayFabInstanceAPI.contextOf(instance);
+        if (context.getClientSessionTicket() == null) throw new Exception ("Must be logged in to call this method");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Client/RemoveGenericID"), request, "X-Authorization", PlayFabSettings.ClientSessionTicket);
+        FutureTask<Object> task = PlayFabHTTP.doPost(context.getURL("/Client/RemoveGenericID"), request, "X-Authorization", context.getClientSessionTicket(), RemoveGenericIDResult.class);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -7637,9 +7520,7 @@ public class PlayFabClientAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
-
-        PlayFabJsonSuccess<RemoveGenericIDResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<RemoveGenericIDResult>>(){}.getType());
+        PlayFabJsonSuccess<RemoveGenericIDResult> resultData = (PlayFabJsonSuccess<RemoveGenericIDResult>) httpResult;
         RemoveGenericIDResult result = resultData.data;
 
         PlayFabResult<RemoveGenericIDResult> pfResult = new PlayFabResult<RemoveGenericIDResult>();
@@ -7659,7 +7540,7 @@ public class PlayFabClientAPI {
     public static FutureTask<PlayFabResult<RemoveSharedGroupMembersResult>> RemoveSharedGroupMembersAsync(final RemoveSharedGroupMembersRequest request) {
         return new FutureTask(new Callable<PlayFabResult<RemoveSharedGroupMembersResult>>() {
             public PlayFabResult<RemoveSharedGroupMembersResult> call() throws Exception {
-                return privateRemoveSharedGroupMembersAsync(request);
+                return privateRemoveSharedGroupMembersAsync(null, request);
             }
         });
     }
@@ -7676,7 +7557,7 @@ public class PlayFabClientAPI {
     public static PlayFabResult<RemoveSharedGroupMembersResult> RemoveSharedGroupMembers(final RemoveSharedGroupMembersRequest request) {
         FutureTask<PlayFabResult<RemoveSharedGroupMembersResult>> task = new FutureTask(new Callable<PlayFabResult<RemoveSharedGroupMembersResult>>() {
             public PlayFabResult<RemoveSharedGroupMembersResult> call() throws Exception {
-                return privateRemoveSharedGroupMembersAsync(request);
+                return privateRemoveSharedGroupMembersAsync(null, request);
             }
         });
         try {
@@ -7696,10 +7577,11 @@ public class PlayFabClientAPI {
      * guide: https://docs.microsoft.com/gaming/playfab/features/social/groups/using-shared-group-data
      */
     @SuppressWarnings("unchecked")
-    private static PlayFabResult<RemoveSharedGroupMembersResult> privateRemoveSharedGroupMembersAsync(final RemoveSharedGroupMembersRequest request) throws Exception {
-        if (PlayFabSettings.ClientSessionTicket == null) throw new Exception ("Must be logged in to call this method");
+    static PlayFabResult<RemoveSharedGroupMembersResult> privateRemoveSharedGroupMembersAsync(final PlayFabInstanceAPI instance, final RemoveSharedGroupMembersRequest request) throws Exception {
+        final PlayFabApiContext context = PlayFabInstanceAPI.contextOf(instance);
+        if (context.getClientSessionTicket() == null) throw new Exception ("Must be logged in to call this method");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Client/RemoveSharedGroupMembers"), request, "X-Authorization", PlayFabSettings.ClientSessionTicket);
+        FutureTask<Object> task = PlayFabHTTP.doPost(context.getURL("/Client/RemoveSharedGroupMembers"), request, "X-Authorization", context.getClientSessionTicket(), RemoveSharedGroupMembersResult.class);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -7710,9 +7592,7 @@ public class PlayFabClientAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
-
-        PlayFabJsonSuccess<RemoveSharedGroupMembersResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<RemoveSharedGroupMembersResult>>(){}.getType());
+        PlayFabJsonSuccess<RemoveSharedGroupMembersResult> resultData = (PlayFabJsonSuccess<RemoveSharedGroupMembersResult>) httpResult;
         RemoveSharedGroupMembersResult result = resultData.data;
 
         PlayFabResult<RemoveSharedGroupMembersResult> pfResult = new PlayFabResult<RemoveSharedGroupMembersResult>();
@@ -7729,7 +7609,7 @@ public class PlayFabClientAPI {
     public static FutureTask<PlayFabResult<ReportAdActivityResult>> ReportAdActivityAsync(final ReportAdActivityRequest request) {
         return new FutureTask(new Callable<PlayFabResult<ReportAdActivityResult>>() {
             public PlayFabResult<ReportAdActivityResult> call() throws Exception {
-                return privateReportAdActivityAsync(request);
+                return privateReportAdActivityAsync(null, request);
             }
         });
     }
@@ -7743,7 +7623,7 @@ public class PlayFabClientAPI {
     public static PlayFabResult<ReportAdActivityResult> ReportAdActivity(final ReportAdActivityRequest request) {
         FutureTask<PlayFabResult<ReportAdActivityResult>> task = new FutureTask(new Callable<PlayFabResult<ReportAdActivityResult>>() {
             public PlayFabResult<ReportAdActivityResult> call() throws Exception {
-                return privateReportAdActivityAsync(request);
+                return privateReportAdActivityAsync(null, request);
             }
         });
         try {
@@ -7758,10 +7638,11 @@ public class PlayFabClientAPI {
 
     /** Report player's ad activity */
     @SuppressWarnings("unchecked")
-    private static PlayFabResult<ReportAdActivityResult> privateReportAdActivityAsync(final ReportAdActivityRequest request) throws Exception {
-        if (PlayFabSettings.ClientSessionTicket == null) throw new Exception ("Must be logged in to call this method");
+    static PlayFabResult<ReportAdActivityResult> privateReportAdActivityAsync(final PlayFabInstanceAPI instance, final ReportAdActivityRequest request) throws Exception {
+        final PlayFabApiContext context = PlayFabInstanceAPI.contextOf(instance);
+        if (context.getClientSessionTicket() == null) throw new Exception ("Must be logged in to call this method");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Client/ReportAdActivity"), request, "X-Authorization", PlayFabSettings.ClientSessionTicket);
+        FutureTask<Object> task = PlayFabHTTP.doPost(context.getURL("/Client/ReportAdActivity"), request, "X-Authorization", context.getClientSessionTicket(), ReportAdActivityResult.class);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -7772,9 +7653,7 @@ public class PlayFabClientAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
-
-        PlayFabJsonSuccess<ReportAdActivityResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<ReportAdActivityResult>>(){}.getType());
+        PlayFabJsonSuccess<ReportAdActivityResult> resultData = (PlayFabJsonSuccess<ReportAdActivityResult>) httpResult;
         ReportAdActivityResult result = resultData.data;
 
         PlayFabResult<ReportAdActivityResult> pfResult = new PlayFabResult<ReportAdActivityResult>();
@@ -7792,7 +7671,7 @@ public class PlayFabClientAPI {
     public static FutureTask<PlayFabResult<EmptyResponse>> ReportDeviceInfoAsync(final DeviceInfoRequest request) {
         return new FutureTask(new Callable<PlayFabResult<EmptyResponse>>() {
             public PlayFabResult<EmptyResponse> call() throws Exception {
-                return privateReportDeviceInfoAsync(request);
+                return privateReportDeviceInfoAsync(null, request);
             }
         });
     }
@@ -7807,7 +7686,7 @@ public class PlayFabClientAPI {
     public static PlayFabResult<EmptyResponse> ReportDeviceInfo(final DeviceInfoRequest request) {
         FutureTask<PlayFabResult<EmptyResponse>> task = new FutureTask(new Callable<PlayFabResult<EmptyResponse>>() {
             public PlayFabResult<EmptyResponse> call() throws Exception {
-                return privateReportDeviceInfoAsync(request);
+                return privateReportDeviceInfoAsync(null, request);
             }
         });
         try {
@@ -7825,10 +7704,11 @@ public class PlayFabClientAPI {
      * called directly by developers. Each PlayFab client SDK will eventually report this information automatically.
      */
     @SuppressWarnings("unchecked")
-    private static PlayFabResult<EmptyResponse> privateReportDeviceInfoAsync(final DeviceInfoRequest request) throws Exception {
-        if (PlayFabSettings.ClientSessionTicket == null) throw new Exception ("Must be logged in to call this method");
+    static PlayFabResult<EmptyResponse> privateReportDeviceInfoAsync(final PlayFabInstanceAPI instance, final DeviceInfoRequest request) throws Exception {
+        final PlayFabApiContext context = PlayFabInstanceAPI.contextOf(instance);
+        if (context.getClientSessionTicket() == null) throw new Exception ("Must be logged in to call this method");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Client/ReportDeviceInfo"), request, "X-Authorization", PlayFabSettings.ClientSessionTicket);
+        FutureTask<Object> task = PlayFabHTTP.doPost(context.getURL("/Client/ReportDeviceInfo"), request, "X-Authorization", context.getClientSessionTicket(), EmptyResponse.class);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -7839,9 +7719,7 @@ public class PlayFabClientAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
-
-        PlayFabJsonSuccess<EmptyResponse> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<EmptyResponse>>(){}.getType());
+        PlayFabJsonSuccess<EmptyResponse> resultData = (PlayFabJsonSuccess<EmptyResponse>) httpResult;
         EmptyResponse result = resultData.data;
 
         PlayFabResult<EmptyResponse> pfResult = new PlayFabResult<EmptyResponse>();
@@ -7859,7 +7737,7 @@ public class PlayFabClientAPI {
     public static FutureTask<PlayFabResult<ReportPlayerClientResult>> ReportPlayerAsync(final ReportPlayerClientRequest request) {
         return new FutureTask(new Callable<PlayFabResult<ReportPlayerClientResult>>() {
             public PlayFabResult<ReportPlayerClientResult> call() throws Exception {
-                return privateReportPlayerAsync(request);
+                return privateReportPlayerAsync(null, request);
             }
         });
     }
@@ -7874,7 +7752,7 @@ public class PlayFabClientAPI {
     public static PlayFabResult<ReportPlayerClientResult> ReportPlayer(final ReportPlayerClientRequest request) {
         FutureTask<PlayFabResult<ReportPlayerClientResult>> task = new FutureTask(new Callable<PlayFabResult<ReportPlayerClientResult>>() {
             public PlayFabResult<ReportPlayerClientResult> call() throws Exception {
-                return privateReportPlayerAsync(request);
+                return privateReportPlayerAsync(null, request);
             }
         });
         try {
@@ -7892,10 +7770,11 @@ public class PlayFabClientAPI {
      * can take action concerning potentially toxic players.
      */
     @SuppressWarnings("unchecked")
-    private static PlayFabResult<ReportPlayerClientResult> privateReportPlayerAsync(final ReportPlayerClientRequest request) throws Exception {
-        if (PlayFabSettings.ClientSessionTicket == null) throw new Exception ("Must be logged in to call this method");
+    static PlayFabResult<ReportPlayerClientResult> privateReportPlayerAsync(final PlayFabInstanceAPI instance, final ReportPlayerClientRequest request) throws Exception {
+        final PlayFabApiContext context = PlayFabInstanceAPI.contextOf(instance);
+        if (context.getClientSessionTicket() == null) throw new Exception ("Must be logged in to call this method");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Client/ReportPlayer"), request, "X-Authorization", PlayFabSettings.ClientSessionTicket);
+        FutureTask<Object> task = PlayFabHTTP.doPost(context.getURL("/Client/ReportPlayer"), request, "X-Authorization", context.getClientSessionTicket(), ReportPlayerClientResult.class);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -7906,9 +7785,7 @@ public class PlayFabClientAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
-
-        PlayFabJsonSuccess<ReportPlayerClientResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<ReportPlayerClientResult>>(){}.getType());
+        PlayFabJsonSuccess<ReportPlayerClientResult> resultData = (PlayFabJsonSuccess<ReportPlayerClientResult>) httpResult;
         ReportPlayerClientResult result = resultData.data;
 
         PlayFabResult<ReportPlayerClientResult> pfResult = new PlayFabResult<ReportPlayerClientResult>();
@@ -7925,7 +7802,7 @@ public class PlayFabClientAPI {
     public static FutureTask<PlayFabResult<RestoreIOSPurchasesResult>> RestoreIOSPurchasesAsync(final RestoreIOSPurchasesRequest request) {
         return new FutureTask(new Callable<PlayFabResult<RestoreIOSPurchasesResult>>() {
             public PlayFabResult<RestoreIOSPurchasesResult> call() throws Exception {
-                return privateRestoreIOSPurchasesAsync(request);
+                return privateRestoreIOSPurchasesAsync(null, request);
             }
         });
     }
@@ -7939,7 +7816,7 @@ public class PlayFabClientAPI {
     public static PlayFabResult<RestoreIOSPurchasesResult> RestoreIOSPurchases(final RestoreIOSPurchasesRequest request) {
         FutureTask<PlayFabResult<RestoreIOSPurchasesResult>> task = new FutureTask(new Callable<PlayFabResult<RestoreIOSPurchasesResult>>() {
             public PlayFabResult<RestoreIOSPurchasesResult> call() throws Exception {
-                return privateRestoreIOSPurchasesAsync(request);
+                return privateRestoreIOSPurchasesAsync(null, request);
             }
         });
         try {
@@ -7954,10 +7831,11 @@ public class PlayFabClientAPI {
 
     /** Restores all in-app purchases based on the given restore receipt */
     @SuppressWarnings("unchecked")
-    private static PlayFabResult<RestoreIOSPurchasesResult> privateRestoreIOSPurchasesAsync(final RestoreIOSPurchasesRequest request) throws Exception {
-        if (PlayFabSettings.ClientSessionTicket == null) throw new Exception ("Must be logged in to call this method");
+    static PlayFabResult<RestoreIOSPurchasesResult> privateRestoreIOSPurchasesAsync(final PlayFabInstanceAPI instance, final RestoreIOSPurchasesRequest request) throws Exception {
+        final PlayFabApiContext context = PlayFabInstanceAPI.contextOf(instance);
+        if (context.getClientSessionTicket() == null) throw new Exception ("Must be logged in to call this method");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Client/RestoreIOSPurchases"), request, "X-Authorization", PlayFabSettings.ClientSessionTicket);
+        FutureTask<Object> task = PlayFabHTTP.doPost(context.getURL("/Client/RestoreIOSPurchases"), request, "X-Authorization", context.getClientSessionTicket(), RestoreIOSPurchasesResult.class);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -7968,9 +7846,7 @@ public class PlayFabClientAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
-
-        PlayFabJsonSuccess<RestoreIOSPurchasesResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<RestoreIOSPurchasesResult>>(){}.getType());
+        PlayFabJsonSuccess<RestoreIOSPurchasesResult> resultData = (PlayFabJsonSuccess<RestoreIOSPurchasesResult>) httpResult;
         RestoreIOSPurchasesResult result = resultData.data;
 
         PlayFabResult<RestoreIOSPurchasesResult> pfResult = new PlayFabResult<RestoreIOSPurchasesResult>();
@@ -7987,7 +7863,7 @@ public class PlayFabClientAPI {
     public static FutureTask<PlayFabResult<RewardAdActivityResult>> RewardAdActivityAsync(final RewardAdActivityRequest request) {
         return new FutureTask(new Callable<PlayFabResult<RewardAdActivityResult>>() {
             public PlayFabResult<RewardAdActivityResult> call() throws Exception {
-                return privateRewardAdActivityAsync(request);
+                return privateRewardAdActivityAsync(null, request);
             }
         });
     }
@@ -8001,7 +7877,7 @@ public class PlayFabClientAPI {
     public static PlayFabResult<RewardAdActivityResult> RewardAdActivity(final RewardAdActivityRequest request) {
         FutureTask<PlayFabResult<RewardAdActivityResult>> task = new FutureTask(new Callable<PlayFabResult<RewardAdActivityResult>>() {
             public PlayFabResult<RewardAdActivityResult> call() throws Exception {
-                return privateRewardAdActivityAsync(request);
+                return privateRewardAdActivityAsync(null, request);
             }
         });
         try {
@@ -8016,10 +7892,11 @@ public class PlayFabClientAPI {
 
     /** Reward player's ad activity */
     @SuppressWarnings("unchecked")
-    private static PlayFabResult<RewardAdActivityResult> privateRewardAdActivityAsync(final RewardAdActivityRequest request) throws Exception {
-        if (PlayFabSettings.ClientSessionTicket == null) throw new Exception ("Must be logged in to call this method");
+    static PlayFabResult<RewardAdActivityResult> privateRewardAdActivityAsync(final PlayFabInstanceAPI instance, final RewardAdActivityRequest request) throws Exception {
+        final PlayFabApiContext context = PlayFabInstanceAPI.contextOf(instance);
+        if (context.getClientSessionTicket() == null) throw new Exception ("Must be logged in to call this method");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Client/RewardAdActivity"), request, "X-Authorization", PlayFabSettings.ClientSessionTicket);
+        FutureTask<Object> task = PlayFabHTTP.doPost(context.getURL("/Client/RewardAdActivity"), request, "X-Authorization", context.getClientSessionTicket(), RewardAdActivityResult.class);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -8030,9 +7907,7 @@ public class PlayFabClientAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
-
-        PlayFabJsonSuccess<RewardAdActivityResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<RewardAdActivityResult>>(){}.getType());
+        PlayFabJsonSuccess<RewardAdActivityResult> resultData = (PlayFabJsonSuccess<RewardAdActivityResult>) httpResult;
         RewardAdActivityResult result = resultData.data;
 
         PlayFabResult<RewardAdActivityResult> pfResult = new PlayFabResult<RewardAdActivityResult>();
@@ -8051,7 +7926,7 @@ public class PlayFabClientAPI {
     public static FutureTask<PlayFabResult<SendAccountRecoveryEmailResult>> SendAccountRecoveryEmailAsync(final SendAccountRecoveryEmailRequest request) {
         return new FutureTask(new Callable<PlayFabResult<SendAccountRecoveryEmailResult>>() {
             public PlayFabResult<SendAccountRecoveryEmailResult> call() throws Exception {
-                return privateSendAccountRecoveryEmailAsync(request);
+                return privateSendAccountRecoveryEmailAsync(null, request);
             }
         });
     }
@@ -8067,7 +7942,7 @@ public class PlayFabClientAPI {
     public static PlayFabResult<SendAccountRecoveryEmailResult> SendAccountRecoveryEmail(final SendAccountRecoveryEmailRequest request) {
         FutureTask<PlayFabResult<SendAccountRecoveryEmailResult>> task = new FutureTask(new Callable<PlayFabResult<SendAccountRecoveryEmailResult>>() {
             public PlayFabResult<SendAccountRecoveryEmailResult> call() throws Exception {
-                return privateSendAccountRecoveryEmailAsync(request);
+                return privateSendAccountRecoveryEmailAsync(null, request);
             }
         });
         try {
@@ -8086,9 +7961,10 @@ public class PlayFabClientAPI {
      * be used.
      */
     @SuppressWarnings("unchecked")
-    private static PlayFabResult<SendAccountRecoveryEmailResult> privateSendAccountRecoveryEmailAsync(final SendAccountRecoveryEmailRequest request) throws Exception {
+    static PlayFabResult<SendAccountRecoveryEmailResult> privateSendAccountRecoveryEmailAsync(final PlayFabInstanceAPI instance, final SendAccountRecoveryEmailRequest request) throws Exception {
+        final PlayFabApiContext context = PlayFabInstanceAPI.contextOf(instance);
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Client/SendAccountRecoveryEmail"), request, null, null);
+        FutureTask<Object> task = PlayFabHTTP.doPost(context.getURL("/Client/SendAccountRecoveryEmail"), request, null, null, SendAccountRecoveryEmailResult.class);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -8099,9 +7975,7 @@ public class PlayFabClientAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
-
-        PlayFabJsonSuccess<SendAccountRecoveryEmailResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<SendAccountRecoveryEmailResult>>(){}.getType());
+        PlayFabJsonSuccess<SendAccountRecoveryEmailResult> resultData = (PlayFabJsonSuccess<SendAccountRecoveryEmailResult>) httpResult;
         SendAccountRecoveryEmailResult result = resultData.data;
 
         PlayFabResult<SendAccountRecoveryEmailResult> pfResult = new PlayFabResult<SendAccountRecoveryEmailResult>();
@@ -8118,7 +7992,7 @@ public class PlayFabClientAPI {
     public static FutureTask<PlayFabResult<SetFriendTagsResult>> SetFriendTagsAsync(final SetFriendTagsRequest request) {
         return new FutureTask(new Callable<PlayFabResult<SetFriendTagsResult>>() {
             public PlayFabResult<SetFriendTagsResult> call() throws Exception {
-                return privateSetFriendTagsAsync(request);
+                return privateSetFriendTagsAsync(null, request);
             }
         });
     }
@@ -8132,7 +8006,7 @@ public class PlayFabClientAPI {
     public static PlayFabResult<SetFriendTagsResult> SetFriendTags(final SetFriendTagsRequest request) {
         FutureTask<PlayFabResult<SetFriendTagsResult>> task = new FutureTask(new Callable<PlayFabResult<SetFriendTagsResult>>() {
             public PlayFabResult<SetFriendTagsResult> call() throws Exception {
-                return privateSetFriendTagsAsync(request);
+                return privateSetFriendTagsAsync(null, request);
             }
         });
         try {
@@ -8147,10 +8021,11 @@ public class PlayFabClientAPI {
 
     /** Updates the tag list for a specified user in the friend list of the local user */
     @SuppressWarnings("unchecked")
-    private static PlayFabResult<SetFriendTagsResult> privateSetFriendTagsAsync(final SetFriendTagsRequest request) throws Exception {
-        if (PlayFabSettings.ClientSessionTicket == null) throw new Exception ("Must be logged in to call this method");
+    static PlayFabResult<SetFriendTagsResult> privateSetFriendTagsAsync(final PlayFabInstanceAPI instance, final SetFriendTagsRequest request) throws Exception {
+        final PlayFabApiContext context = PlayFabInstanceAPI.contextOf(instance);
+        if (context.getClientSessionTicket() == null) throw new Exception ("Must be logged in to call this method");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Client/SetFriendTags"), request, "X-Authorization", PlayFabSettings.ClientSessionTicket);
+        FutureTask<Object> task = PlayFabHTTP.doPost(context.getURL("/Client/SetFriendTags"), request, "X-Authorization", context.getClientSessionTicket(), SetFriendTagsResult.class);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -8161,9 +8036,7 @@ public class PlayFabClientAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
-
-        PlayFabJsonSuccess<SetFriendTagsResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<SetFriendTagsResult>>(){}.getType());
+        PlayFabJsonSuccess<SetFriendTagsResult> resultData = (PlayFabJsonSuccess<SetFriendTagsResult>) httpResult;
         SetFriendTagsResult result = resultData.data;
 
         PlayFabResult<SetFriendTagsResult> pfResult = new PlayFabResult<SetFriendTagsResult>();
@@ -8181,7 +8054,7 @@ public class PlayFabClientAPI {
     public static FutureTask<PlayFabResult<SetPlayerSecretResult>> SetPlayerSecretAsync(final SetPlayerSecretRequest request) {
         return new FutureTask(new Callable<PlayFabResult<SetPlayerSecretResult>>() {
             public PlayFabResult<SetPlayerSecretResult> call() throws Exception {
-                return privateSetPlayerSecretAsync(request);
+                return privateSetPlayerSecretAsync(null, request);
             }
         });
     }
@@ -8196,7 +8069,7 @@ public class PlayFabClientAPI {
     public static PlayFabResult<SetPlayerSecretResult> SetPlayerSecret(final SetPlayerSecretRequest request) {
         FutureTask<PlayFabResult<SetPlayerSecretResult>> task = new FutureTask(new Callable<PlayFabResult<SetPlayerSecretResult>>() {
             public PlayFabResult<SetPlayerSecretResult> call() throws Exception {
-                return privateSetPlayerSecretAsync(request);
+                return privateSetPlayerSecretAsync(null, request);
             }
         });
         try {
@@ -8214,10 +8087,11 @@ public class PlayFabClientAPI {
      * secret use the Admin or Server API method SetPlayerSecret.
      */
     @SuppressWarnings("unchecked")
-    private static PlayFabResult<SetPlayerSecretResult> privateSetPlayerSecretAsync(final SetPlayerSecretRequest request) throws Exception {
-        if (PlayFabSettings.ClientSessionTicket == null) throw new Exception ("Must be logged in to call this method");
+    static PlayFabResult<SetPlayerSecretResult> privateSetPlayerSecretAsync(final PlayFabInstanceAPI instance, final SetPlayerSecretRequest request) throws Exception {
+        final PlayFabApiContext context = PlayFabInstanceAPI.contextOf(instance);
+        if (context.getClientSessionTicket() == null) throw new Exception ("Must be logged in to call this method");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Client/SetPlayerSecret"), request, "X-Authorization", PlayFabSettings.ClientSessionTicket);
+        FutureTask<Object> task = PlayFabHTTP.doPost(context.getURL("/Client/SetPlayerSecret"), request, "X-Authorization", context.getClientSessionTicket(), SetPlayerSecretResult.class);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -8228,9 +8102,7 @@ public class PlayFabClientAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
-
-        PlayFabJsonSuccess<SetPlayerSecretResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<SetPlayerSecretResult>>(){}.getType());
+        PlayFabJsonSuccess<SetPlayerSecretResult> resultData = (PlayFabJsonSuccess<SetPlayerSecretResult>) httpResult;
         SetPlayerSecretResult result = resultData.data;
 
         PlayFabResult<SetPlayerSecretResult> pfResult = new PlayFabResult<SetPlayerSecretResult>();
@@ -8247,7 +8119,7 @@ public class PlayFabClientAPI {
     public static FutureTask<PlayFabResult<StartGameResult>> StartGameAsync(final StartGameRequest request) {
         return new FutureTask(new Callable<PlayFabResult<StartGameResult>>() {
             public PlayFabResult<StartGameResult> call() throws Exception {
-                return privateStartGameAsync(request);
+                return privateStartGameAsync(null, request);
             }
         });
     }
@@ -8261,7 +8133,7 @@ public class PlayFabClientAPI {
     public static PlayFabResult<StartGameResult> StartGame(final StartGameRequest request) {
         FutureTask<PlayFabResult<StartGameResult>> task = new FutureTask(new Callable<PlayFabResult<StartGameResult>>() {
             public PlayFabResult<StartGameResult> call() throws Exception {
-                return privateStartGameAsync(request);
+                return privateStartGameAsync(null, request);
             }
         });
         try {
@@ -8276,10 +8148,11 @@ public class PlayFabClientAPI {
 
     /** Start a new game server with a given configuration, add the current player and return the connection information. */
     @SuppressWarnings("unchecked")
-    private static PlayFabResult<StartGameResult> privateStartGameAsync(final StartGameRequest request) throws Exception {
-        if (PlayFabSettings.ClientSessionTicket == null) throw new Exception ("Must be logged in to call this method");
+    static PlayFabResult<StartGameResult> privateStartGameAsync(final PlayFabInstanceAPI instance, final StartGameRequest request) throws Exception {
+        final PlayFabApiContext context = PlayFabInstanceAPI.contextOf(instance);
+        if (context.getClientSessionTicket() == null) throw new Exception ("Must be logged in to call this method");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Client/StartGame"), request, "X-Authorization", PlayFabSettings.ClientSessionTicket);
+        FutureTask<Object> task = PlayFabHTTP.doPost(context.getURL("/Client/StartGame"), request, "X-Authorization", context.getClientSessionTicket(), StartGameResult.class);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -8290,9 +8163,7 @@ public class PlayFabClientAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
-
-        PlayFabJsonSuccess<StartGameResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<StartGameResult>>(){}.getType());
+        PlayFabJsonSuccess<StartGameResult> resultData = (PlayFabJsonSuccess<StartGameResult>) httpResult;
         StartGameResult result = resultData.data;
 
         PlayFabResult<StartGameResult> pfResult = new PlayFabResult<StartGameResult>();
@@ -8309,7 +8180,7 @@ public class PlayFabClientAPI {
     public static FutureTask<PlayFabResult<StartPurchaseResult>> StartPurchaseAsync(final StartPurchaseRequest request) {
         return new FutureTask(new Callable<PlayFabResult<StartPurchaseResult>>() {
             public PlayFabResult<StartPurchaseResult> call() throws Exception {
-                return privateStartPurchaseAsync(request);
+                return privateStartPurchaseAsync(null, request);
             }
         });
     }
@@ -8323,7 +8194,7 @@ public class PlayFabClientAPI {
     public static PlayFabResult<StartPurchaseResult> StartPurchase(final StartPurchaseRequest request) {
         FutureTask<PlayFabResult<StartPurchaseResult>> task = new FutureTask(new Callable<PlayFabResult<StartPurchaseResult>>() {
             public PlayFabResult<StartPurchaseResult> call() throws Exception {
-                return privateStartPurchaseAsync(request);
+                return privateStartPurchaseAsync(null, request);
             }
         });
         try {
@@ -8338,10 +8209,11 @@ public class PlayFabClientAPI {
 
     /** Creates an order for a list of items from the title catalog */
     @SuppressWarnings("unchecked")
-    private static PlayFabResult<StartPurchaseResult> privateStartPurchaseAsync(final StartPurchaseRequest request) throws Exception {
-        if (PlayFabSettings.ClientSessionTicket == null) throw new Exception ("Must be logged in to call this method");
+    static PlayFabResult<StartPurchaseResult> privateStartPurchaseAsync(final PlayFabInstanceAPI instance, final StartPurchaseRequest request) throws Exception {
+        final PlayFabApiContext context = PlayFabInstanceAPI.contextOf(instance);
+        if (context.getClientSessionTicket() == null) throw new Exception ("Must be logged in to call this method");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Client/StartPurchase"), request, "X-Authorization", PlayFabSettings.ClientSessionTicket);
+        FutureTask<Object> task = PlayFabHTTP.doPost(context.getURL("/Client/StartPurchase"), request, "X-Authorization", context.getClientSessionTicket(), StartPurchaseResult.class);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -8352,9 +8224,7 @@ public class PlayFabClientAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
-
-        PlayFabJsonSuccess<StartPurchaseResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<StartPurchaseResult>>(){}.getType());
+        PlayFabJsonSuccess<StartPurchaseResult> resultData = (PlayFabJsonSuccess<StartPurchaseResult>) httpResult;
         StartPurchaseResult result = resultData.data;
 
         PlayFabResult<StartPurchaseResult> pfResult = new PlayFabResult<StartPurchaseResult>();
@@ -8372,7 +8242,7 @@ public class PlayFabClientAPI {
     public static FutureTask<PlayFabResult<ModifyUserVirtualCurrencyResult>> SubtractUserVirtualCurrencyAsync(final SubtractUserVirtualCurrencyRequest request) {
         return new FutureTask(new Callable<PlayFabResult<ModifyUserVirtualCurrencyResult>>() {
             public PlayFabResult<ModifyUserVirtualCurrencyResult> call() throws Exception {
-                return privateSubtractUserVirtualCurrencyAsync(request);
+                return privateSubtractUserVirtualCurrencyAsync(null, request);
             }
         });
     }
@@ -8387,7 +8257,7 @@ public class PlayFabClientAPI {
     public static PlayFabResult<ModifyUserVirtualCurrencyResult> SubtractUserVirtualCurrency(final SubtractUserVirtualCurrencyRequest request) {
         FutureTask<PlayFabResult<ModifyUserVirtualCurrencyResult>> task = new FutureTask(new Callable<PlayFabResult<ModifyUserVirtualCurrencyResult>>() {
             public PlayFabResult<ModifyUserVirtualCurrencyResult> call() throws Exception {
-                return privateSubtractUserVirtualCurrencyAsync(request);
+                return privateSubtractUserVirtualCurrencyAsync(null, request);
             }
         });
         try {
@@ -8405,10 +8275,11 @@ public class PlayFabClientAPI {
      * balance negative with this API.
      */
     @SuppressWarnings("unchecked")
-    private static PlayFabResult<ModifyUserVirtualCurrencyResult> privateSubtractUserVirtualCurrencyAsync(final SubtractUserVirtualCurrencyRequest request) throws Exception {
-        if (PlayFabSettings.ClientSessionTicket == null) throw new Exception ("Must be logged in to call this method");
+    static PlayFabResult<ModifyUserVirtualCurrencyResult> privateSubtractUserVirtualCurrencyAsync(final PlayFabInstanceAPI instance, final SubtractUserVirtualCurrencyRequest request) throws Exception {
+        final PlayFabApiContext context = PlayFabInstanceAPI.contextOf(instance);
+        if (context.getClientSessionTicket() == null) throw new Exception ("Must be logged in to call this method");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Client/SubtractUserVirtualCurrency"), request, "X-Authorization", PlayFabSettings.ClientSessionTicket);
+        FutureTask<Object> task = PlayFabHTTP.doPost(context.getURL("/Client/SubtractUserVirtualCurrency"), request, "X-Authorization", context.getClientSessionTicket(), ModifyUserVirtualCurrencyResult.class);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -8419,9 +8290,7 @@ public class PlayFabClientAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
-
-        PlayFabJsonSuccess<ModifyUserVirtualCurrencyResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<ModifyUserVirtualCurrencyResult>>(){}.getType());
+        PlayFabJsonSuccess<ModifyUserVirtualCurrencyResult> resultData = (PlayFabJsonSuccess<ModifyUserVirtualCurrencyResult>) httpResult;
         ModifyUserVirtualCurrencyResult result = resultData.data;
 
         PlayFabResult<ModifyUserVirtualCurrencyResult> pfResult = new PlayFabResult<ModifyUserVirtualCurrencyResult>();
@@ -8438,7 +8307,7 @@ public class PlayFabClientAPI {
     public static FutureTask<PlayFabResult<UnlinkAndroidDeviceIDResult>> UnlinkAndroidDeviceIDAsync(final UnlinkAndroidDeviceIDRequest request) {
         return new FutureTask(new Callable<PlayFabResult<UnlinkAndroidDeviceIDResult>>() {
             public PlayFabResult<UnlinkAndroidDeviceIDResult> call() throws Exception {
-                return privateUnlinkAndroidDeviceIDAsync(request);
+                return privateUnlinkAndroidDeviceIDAsync(null, request);
             }
         });
     }
@@ -8452,7 +8321,7 @@ public class PlayFabClientAPI {
     public static PlayFabResult<UnlinkAndroidDeviceIDResult> UnlinkAndroidDeviceID(final UnlinkAndroidDeviceIDRequest request) {
         FutureTask<PlayFabResult<UnlinkAndroidDeviceIDResult>> task = new FutureTask(new Callable<PlayFabResult<UnlinkAndroidDeviceIDResult>>() {
             public PlayFabResult<UnlinkAndroidDeviceIDResult> call() throws Exception {
-                return privateUnlinkAndroidDeviceIDAsync(request);
+                return privateUnlinkAndroidDeviceIDAsync(null, request);
             }
         });
         try {
@@ -8467,10 +8336,11 @@ public class PlayFabClientAPI {
 
     /** Unlinks the related Android device identifier from the user's PlayFab account */
     @SuppressWarnings("unchecked")
-    private static PlayFabResult<UnlinkAndroidDeviceIDResult> privateUnlinkAndroidDeviceIDAsync(final UnlinkAndroidDeviceIDRequest request) throws Exception {
-        if (PlayFabSettings.ClientSessionTicket == null) throw new Exception ("Must be logged in to call this method");
+    static PlayFabResult<UnlinkAndroidDeviceIDResult> privateUnlinkAndroidDeviceIDAsync(final PlayFabInstanceAPI instance, final UnlinkAndroidDeviceIDRequest request) throws Exception {
+        final PlayFabApiContext context = PlayFabInstanceAPI.contextOf(instance);
+        if (context.getClientSessionTicket() == null) throw new Exception ("Must be logged in to call this method");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Client/UnlinkAndroidDeviceID"), request, "X-Authorization", PlayFabSettings.ClientSessionTicket);
+        FutureTask<Object> task = PlayFabHTTP.doPost(context.getURL("/Client/UnlinkAndroidDeviceID"), request, "X-Authorization", context.getClientSessionTicket(), UnlinkAndroidDeviceIDResult.class);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -8481,9 +8351,7 @@ public class PlayFabClientAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
-
-        PlayFabJsonSuccess<UnlinkAndroidDeviceIDResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<UnlinkAndroidDeviceIDResult>>(){}.getType());
+        PlayFabJsonSuccess<UnlinkAndroidDeviceIDResult> resultData = (PlayFabJsonSuccess<UnlinkAndroidDeviceIDResult>) httpResult;
         UnlinkAndroidDeviceIDResult result = resultData.data;
 
         PlayFabResult<UnlinkAndroidDeviceIDResult> pfResult = new PlayFabResult<UnlinkAndroidDeviceIDResult>();
@@ -8500,7 +8368,7 @@ public class PlayFabClientAPI {
     public static FutureTask<PlayFabResult<EmptyResponse>> UnlinkAppleAsync(final UnlinkAppleRequest request) {
         return new FutureTask(new Callable<PlayFabResult<EmptyResponse>>() {
             public PlayFabResult<EmptyResponse> call() throws Exception {
-                return privateUnlinkAppleAsync(request);
+                return privateUnlinkAppleAsync(null, request);
             }
         });
     }
@@ -8514,7 +8382,7 @@ public class PlayFabClientAPI {
     public static PlayFabResult<EmptyResponse> UnlinkApple(final UnlinkAppleRequest request) {
         FutureTask<PlayFabResult<EmptyResponse>> task = new FutureTask(new Callable<PlayFabResult<EmptyResponse>>() {
             public PlayFabResult<EmptyResponse> call() throws Exception {
-                return privateUnlinkAppleAsync(request);
+                return privateUnlinkAppleAsync(null, request);
             }
         });
         try {
@@ -8529,10 +8397,11 @@ public class PlayFabClientAPI {
 
     /** Unlinks the related Apple account from the user's PlayFab account. */
     @SuppressWarnings("unchecked")
-    private static PlayFabResult<EmptyResponse> privateUnlinkAppleAsync(final UnlinkAppleRequest request) throws Exception {
-        if (PlayFabSettings.ClientSessionTicket == null) throw new Exception ("Must be logged in to call this method");
+    static PlayFabResult<EmptyResponse> privateUnlinkAppleAsync(final PlayFabInstanceAPI instance, final UnlinkAppleRequest request) throws Exception {
+        final PlayFabApiContext context = PlayFabInstanceAPI.contextOf(instance);
+        if (context.getClientSessionTicket() == null) throw new Exception ("Must be logged in to call this method");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Client/UnlinkApple"), request, "X-Authorization", PlayFabSettings.ClientSessionTicket);
+        FutureTask<Object> task = PlayFabHTTP.doPost(context.getURL("/Client/UnlinkApple"), request, "X-Authorization", context.getClientSessionTicket(), EmptyResponse.class);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -8543,9 +8412,7 @@ public class PlayFabClientAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
-
-        PlayFabJsonSuccess<EmptyResponse> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<EmptyResponse>>(){}.getType());
+        PlayFabJsonSuccess<EmptyResponse> resultData = (PlayFabJsonSuccess<EmptyResponse>) httpResult;
         EmptyResponse result = resultData.data;
 
         PlayFabResult<EmptyResponse> pfResult = new PlayFabResult<EmptyResponse>();
@@ -8562,7 +8429,7 @@ public class PlayFabClientAPI {
     public static FutureTask<PlayFabResult<UnlinkCustomIDResult>> UnlinkCustomIDAsync(final UnlinkCustomIDRequest request) {
         return new FutureTask(new Callable<PlayFabResult<UnlinkCustomIDResult>>() {
             public PlayFabResult<UnlinkCustomIDResult> call() throws Exception {
-                return privateUnlinkCustomIDAsync(request);
+                return privateUnlinkCustomIDAsync(null, request);
             }
         });
     }
@@ -8576,7 +8443,7 @@ public class PlayFabClientAPI {
     public static PlayFabResult<UnlinkCustomIDResult> UnlinkCustomID(final UnlinkCustomIDRequest request) {
         FutureTask<PlayFabResult<UnlinkCustomIDResult>> task = new FutureTask(new Callable<PlayFabResult<UnlinkCustomIDResult>>() {
             public PlayFabResult<UnlinkCustomIDResult> call() throws Exception {
-                return privateUnlinkCustomIDAsync(request);
+                return privateUnlinkCustomIDAsync(null, request);
             }
         });
         try {
@@ -8591,10 +8458,11 @@ public class PlayFabClientAPI {
 
     /** Unlinks the related custom identifier from the user's PlayFab account */
     @SuppressWarnings("unchecked")
-    private static PlayFabResult<UnlinkCustomIDResult> privateUnlinkCustomIDAsync(final UnlinkCustomIDRequest request) throws Exception {
-        if (PlayFabSettings.ClientSessionTicket == null) throw new Exception ("Must be logged in to call this method");
+    static PlayFabResult<UnlinkCustomIDResult> privateUnlinkCustomIDAsync(final PlayFabInstanceAPI instance, final UnlinkCustomIDRequest request) throws Exception {
+        final PlayFabApiContext context = PlayFabInstanceAPI.contextOf(instance);
+        if (context.getClientSessionTicket() == null) throw new Exception ("Must be logged in to call this method");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Client/UnlinkCustomID"), request, "X-Authorization", PlayFabSettings.ClientSessionTicket);
+        FutureTask<Object> task = PlayFabHTTP.doPost(context.getURL("/Client/UnlinkCustomID"), request, "X-Authorization", context.getClientSessionTicket(), UnlinkCustomIDResult.class);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -8605,9 +8473,7 @@ public class PlayFabClientAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
-
-        PlayFabJsonSuccess<UnlinkCustomIDResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<UnlinkCustomIDResult>>(){}.getType());
+        PlayFabJsonSuccess<UnlinkCustomIDResult> resultData = (PlayFabJsonSuccess<UnlinkCustomIDResult>) httpResult;
         UnlinkCustomIDResult result = resultData.data;
 
         PlayFabResult<UnlinkCustomIDResult> pfResult = new PlayFabResult<UnlinkCustomIDResult>();
@@ -8624,7 +8490,7 @@ public class PlayFabClientAPI {
     public static FutureTask<PlayFabResult<UnlinkFacebookAccountResult>> UnlinkFacebookAccountAsync(final UnlinkFacebookAccountRequest request) {
         return new FutureTask(new Callable<PlayFabResult<UnlinkFacebookAccountResult>>() {
             public PlayFabResult<UnlinkFacebookAccountResult> call() throws Exception {
-                return privateUnlinkFacebookAccountAsync(request);
+                return privateUnlinkFacebookAccountAsync(null, request);
             }
         });
     }
@@ -8638,7 +8504,7 @@ public class PlayFabClientAPI {
     public static PlayFabResult<UnlinkFacebookAccountResult> UnlinkFacebookAccount(final UnlinkFacebookAccountRequest request) {
         FutureTask<PlayFabResult<UnlinkFacebookAccountResult>> task = new FutureTask(new Callable<PlayFabResult<UnlinkFacebookAccountResult>>() {
             public PlayFabResult<UnlinkFacebookAccountResult> call() throws Exception {
-                return privateUnlinkFacebookAccountAsync(request);
+                return privateUnlinkFacebookAccountAsync(null, request);
             }
         });
         try {
@@ -8653,10 +8519,11 @@ public class PlayFabClientAPI {
 
     /** Unlinks the related Facebook account from the user's PlayFab account */
     @SuppressWarnings("unchecked")
-    private static PlayFabResult<UnlinkFacebookAccountResult> privateUnlinkFacebookAccountAsync(final UnlinkFacebookAccountRequest request) throws Exception {
-        if (PlayFabSettings.ClientSessionTicket == null) throw new Exception ("Must be logged in to call this method");
+    static PlayFabResult<UnlinkFacebookAccountResult> privateUnlinkFacebookAccountAsync(final PlayFabInstanceAPI instance, final UnlinkFacebookAccountRequest request) throws Exception {
+        final PlayFabApiContext context = PlayFabInstanceAPI.contextOf(instance);
+        if (context.getClientSessionTicket() == null) throw new Exception ("Must be logged in to call this method");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Client/UnlinkFacebookAccount"), request, "X-Authorization", PlayFabSettings.ClientSessionTicket);
+        FutureTask<Object> task = PlayFabHTTP.doPost(context.getURL("/Client/UnlinkFacebookAccount"), request, "X-Authorization", context.getClientSessionTicket(), UnlinkFacebookAccountResult.class);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -8667,9 +8534,7 @@ public class PlayFabClientAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
-
-        PlayFabJsonSuccess<UnlinkFacebookAccountResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<UnlinkFacebookAccountResult>>(){}.getType());
+        PlayFabJsonSuccess<UnlinkFacebookAccountResult> resultData = (PlayFabJsonSuccess<UnlinkFacebookAccountResult>) httpResult;
         UnlinkFacebookAccountResult result = resultData.data;
 
         PlayFabResult<UnlinkFacebookAccountResult> pfResult = new PlayFabResult<UnlinkFacebookAccountResult>();
@@ -8686,7 +8551,7 @@ public class PlayFabClientAPI {
     public static FutureTask<PlayFabResult<UnlinkFacebookInstantGamesIdResult>> UnlinkFacebookInstantGamesIdAsync(final UnlinkFacebookInstantGamesIdRequest request) {
         return new FutureTask(new Callable<PlayFabResult<UnlinkFacebookInstantGamesIdResult>>() {
             public PlayFabResult<UnlinkFacebookInstantGamesIdResult> call() throws Exception {
-                return privateUnlinkFacebookInstantGamesIdAsync(request);
+                return privateUnlinkFacebookInstantGamesIdAsync(null, request);
             }
         });
     }
@@ -8700,7 +8565,7 @@ public class PlayFabClientAPI {
     public static PlayFabResult<UnlinkFacebookInstantGamesIdResult> UnlinkFacebookInstantGamesId(final UnlinkFacebookInstantGamesIdRequest request) {
         FutureTask<PlayFabResult<UnlinkFacebookInstantGamesIdResult>> task = new FutureTask(new Callable<PlayFabResult<UnlinkFacebookInstantGamesIdResult>>() {
             public PlayFabResult<UnlinkFacebookInstantGamesIdResult> call() throws Exception {
-                return privateUnlinkFacebookInstantGamesIdAsync(request);
+                return privateUnlinkFacebookInstantGamesIdAsync(null, request);
             }
         });
         try {
@@ -8715,10 +8580,11 @@ public class PlayFabClientAPI {
 
     /** Unlinks the related Facebook Instant Game Ids from the user's PlayFab account */
     @SuppressWarnings("unchecked")
-    private static PlayFabResult<UnlinkFacebookInstantGamesIdResult> privateUnlinkFacebookInstantGamesIdAsync(final UnlinkFacebookInstantGamesIdRequest request) throws Exception {
-        if (PlayFabSettings.ClientSessionTicket == null) throw new Exception ("Must be logged in to call this method");
+    static PlayFabResult<UnlinkFacebookInstantGamesIdResult> privateUnlinkFacebookInstantGamesIdAsync(final PlayFabInstanceAPI instance, final UnlinkFacebookInstantGamesIdRequest request) throws Exception {
+        final PlayFabApiContext context = PlayFabInstanceAPI.contextOf(instance);
+        if (context.getClientSessionTicket() == null) throw new Exception ("Must be logged in to call this method");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Client/UnlinkFacebookInstantGamesId"), request, "X-Authorization", PlayFabSettings.ClientSessionTicket);
+        FutureTask<Object> task = PlayFabHTTP.doPost(context.getURL("/Client/UnlinkFacebookInstantGamesId"), request, "X-Authorization", context.getClientSessionTicket(), UnlinkFacebookInstantGamesIdResult.class);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -8729,9 +8595,7 @@ public class PlayFabClientAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
-
-        PlayFabJsonSuccess<UnlinkFacebookInstantGamesIdResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<UnlinkFacebookInstantGamesIdResult>>(){}.getType());
+        PlayFabJsonSuccess<UnlinkFacebookInstantGamesIdResult> resultData = (PlayFabJsonSuccess<UnlinkFacebookInstantGamesIdResult>) httpResult;
         UnlinkFacebookInstantGamesIdResult result = resultData.data;
 
         PlayFabResult<UnlinkFacebookInstantGamesIdResult> pfResult = new PlayFabResult<UnlinkFacebookInstantGamesIdResult>();
@@ -8748,7 +8612,7 @@ public class PlayFabClientAPI {
     public static FutureTask<PlayFabResult<UnlinkGameCenterAccountResult>> UnlinkGameCenterAccountAsync(final UnlinkGameCenterAccountRequest request) {
         return new FutureTask(new Callable<PlayFabResult<UnlinkGameCenterAccountResult>>() {
             public PlayFabResult<UnlinkGameCenterAccountResult> call() throws Exception {
-                return privateUnlinkGameCenterAccountAsync(request);
+                return privateUnlinkGameCenterAccountAsync(null, request);
             }
         });
     }
@@ -8762,7 +8626,7 @@ public class PlayFabClientAPI {
     public static PlayFabResult<UnlinkGameCenterAccountResult> UnlinkGameCenterAccount(final UnlinkGameCenterAccountRequest request) {
         FutureTask<PlayFabResult<UnlinkGameCenterAccountResult>> task = new FutureTask(new Callable<PlayFabResult<UnlinkGameCenterAccountResult>>() {
             public PlayFabResult<UnlinkGameCenterAccountResult> call() throws Exception {
-                return privateUnlinkGameCenterAccountAsync(request);
+                return privateUnlinkGameCenterAccountAsync(null, request);
             }
         });
         try {
@@ -8777,10 +8641,11 @@ public class PlayFabClientAPI {
 
     /** Unlinks the related Game Center account from the user's PlayFab account */
     @SuppressWarnings("unchecked")
-    private static PlayFabResult<UnlinkGameCenterAccountResult> privateUnlinkGameCenterAccountAsync(final UnlinkGameCenterAccountRequest request) throws Exception {
-        if (PlayFabSettings.ClientSessionTicket == null) throw new Exception ("Must be logged in to call this method");
+    static PlayFabResult<UnlinkGameCenterAccountResult> privateUnlinkGameCenterAccountAsync(final PlayFabInstanceAPI instance, final UnlinkGameCenterAccountRequest request) throws Exception {
+        final PlayFabApiContext context = PlayFabInstanceAPI.contextOf(instance);
+        if (context.getClientSessionTicket() == null) throw new Exception ("Must be logged in to call this method");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Client/UnlinkGameCenterAccount"), request, "X-Authorization", PlayFabSettings.ClientSessionTicket);
+        FutureTask<Object> task = PlayFabHTTP.doPost(context.getURL("/Client/UnlinkGameCenterAccount"), request, "X-Authorization", context.getClientSessionTicket(), UnlinkGameCenterAccountResult.class);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -8791,9 +8656,7 @@ public class PlayFabClientAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
-
-        PlayFabJsonSuccess<UnlinkGameCenterAccountResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<UnlinkGameCenterAccountResult>>(){}.getType());
+        PlayFabJsonSuccess<UnlinkGameCenterAccountResult> resultData = (PlayFabJsonSuccess<UnlinkGameCenterAccountResult>) httpResult;
         UnlinkGameCenterAccountResult result = resultData.data;
 
         PlayFabResult<UnlinkGameCenterAccountResult> pfResult = new PlayFabResult<UnlinkGameCenterAccountResult>();
@@ -8811,7 +8674,7 @@ public class PlayFabClientAPI {
     public static FutureTask<PlayFabResult<UnlinkGoogleAccountResult>> UnlinkGoogleAccountAsync(final UnlinkGoogleAccountRequest request) {
         return new FutureTask(new Callable<PlayFabResult<UnlinkGoogleAccountResult>>() {
             public PlayFabResult<UnlinkGoogleAccountResult> call() throws Exception {
-                return privateUnlinkGoogleAccountAsync(request);
+                return privateUnlinkGoogleAccountAsync(null, request);
             }
         });
     }
@@ -8826,7 +8689,7 @@ public class PlayFabClientAPI {
     public static PlayFabResult<UnlinkGoogleAccountResult> UnlinkGoogleAccount(final UnlinkGoogleAccountRequest request) {
         FutureTask<PlayFabResult<UnlinkGoogleAccountResult>> task = new FutureTask(new Callable<PlayFabResult<UnlinkGoogleAccountResult>>() {
             public PlayFabResult<UnlinkGoogleAccountResult> call() throws Exception {
-                return privateUnlinkGoogleAccountAsync(request);
+                return privateUnlinkGoogleAccountAsync(null, request);
             }
         });
         try {
@@ -8844,10 +8707,11 @@ public class PlayFabClientAPI {
      * (https://developers.google.com/android/reference/com/google/android/gms/auth/GoogleAuthUtil#public-methods).
      */
     @SuppressWarnings("unchecked")
-    private static PlayFabResult<UnlinkGoogleAccountResult> privateUnlinkGoogleAccountAsync(final UnlinkGoogleAccountRequest request) throws Exception {
-        if (PlayFabSettings.ClientSessionTicket == null) throw new Exception ("Must be logged in to call this method");
+    static PlayFabResult<UnlinkGoogleAccountResult> privateUnlinkGoogleAccountAsync(final PlayFabInstanceAPI instance, final UnlinkGoogleAccountRequest request) throws Exception {
+        final PlayFabApiContext context = PlayFabInstanceAPI.contextOf(instance);
+        if (context.getClientSessionTicket() == null) throw new Exception ("Must be logged in to call this method");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Client/UnlinkGoogleAccount"), request, "X-Authorization", PlayFabSettings.ClientSessionTicket);
+        FutureTask<Object> task = PlayFabHTTP.doPost(context.getURL("/Client/UnlinkGoogleAccount"), request, "X-Authorization", context.getClientSessionTicket(), UnlinkGoogleAccountResult.class);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -8858,9 +8722,7 @@ public class PlayFabClientAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
-
-        PlayFabJsonSuccess<UnlinkGoogleAccountResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<UnlinkGoogleAccountResult>>(){}.getType());
+        PlayFabJsonSuccess<UnlinkGoogleAccountResult> resultData = (PlayFabJsonSuccess<UnlinkGoogleAccountResult>) httpResult;
         UnlinkGoogleAccountResult result = resultData.data;
 
         PlayFabResult<UnlinkGoogleAccountResult> pfResult = new PlayFabResult<UnlinkGoogleAccountResult>();
@@ -8877,7 +8739,7 @@ public class PlayFabClientAPI {
     public static FutureTask<PlayFabResult<UnlinkIOSDeviceIDResult>> UnlinkIOSDeviceIDAsync(final UnlinkIOSDeviceIDRequest request) {
         return new FutureTask(new Callable<PlayFabResult<UnlinkIOSDeviceIDResult>>() {
             public PlayFabResult<UnlinkIOSDeviceIDResult> call() throws Exception {
-                return privateUnlinkIOSDeviceIDAsync(request);
+                return privateUnlinkIOSDeviceIDAsync(null, request);
             }
         });
     }
@@ -8891,7 +8753,7 @@ public class PlayFabClientAPI {
     public static PlayFabResult<UnlinkIOSDeviceIDResult> UnlinkIOSDeviceID(final UnlinkIOSDeviceIDRequest request) {
         FutureTask<PlayFabResult<UnlinkIOSDeviceIDResult>> task = new FutureTask(new Callable<PlayFabResult<UnlinkIOSDeviceIDResult>>() {
             public PlayFabResult<UnlinkIOSDeviceIDResult> call() throws Exception {
-                return privateUnlinkIOSDeviceIDAsync(request);
+                return privateUnlinkIOSDeviceIDAsync(null, request);
             }
         });
         try {
@@ -8906,10 +8768,11 @@ public class PlayFabClientAPI {
 
     /** Unlinks the related iOS device identifier from the user's PlayFab account */
     @SuppressWarnings("unchecked")
-    private static PlayFabResult<UnlinkIOSDeviceIDResult> privateUnlinkIOSDeviceIDAsync(final UnlinkIOSDeviceIDRequest request) throws Exception {
-        if (PlayFabSettings.ClientSessionTicket == null) throw new Exception ("Must be logged in to call this method");
+    static PlayFabResult<UnlinkIOSDeviceIDResult> privateUnlinkIOSDeviceIDAsync(final PlayFabInstanceAPI instance, final UnlinkIOSDeviceIDRequest request) throws Exception {
+        final PlayFabApiContext context = PlayFabInstanceAPI.contextOf(instance);
+        if (context.getClientSessionTicket() == null) throw new Exception ("Must be logged in to call this method");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Client/UnlinkIOSDeviceID"), request, "X-Authorization", PlayFabSettings.ClientSessionTicket);
+        FutureTask<Object> task = PlayFabHTTP.doPost(context.getURL("/Client/UnlinkIOSDeviceID"), request, "X-Authorization", context.getClientSessionTicket(), UnlinkIOSDeviceIDResult.class);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -8920,9 +8783,7 @@ public class PlayFabClientAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
-
-        PlayFabJsonSuccess<UnlinkIOSDeviceIDResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<UnlinkIOSDeviceIDResult>>(){}.getType());
+        PlayFabJsonSuccess<UnlinkIOSDeviceIDResult> resultData = (PlayFabJsonSuccess<UnlinkIOSDeviceIDResult>) httpResult;
         UnlinkIOSDeviceIDResult result = resultData.data;
 
         PlayFabResult<UnlinkIOSDeviceIDResult> pfResult = new PlayFabResult<UnlinkIOSDeviceIDResult>();
@@ -8939,7 +8800,7 @@ public class PlayFabClientAPI {
     public static FutureTask<PlayFabResult<UnlinkKongregateAccountResult>> UnlinkKongregateAsync(final UnlinkKongregateAccountRequest request) {
         return new FutureTask(new Callable<PlayFabResult<UnlinkKongregateAccountResult>>() {
             public PlayFabResult<UnlinkKongregateAccountResult> call() throws Exception {
-                return privateUnlinkKongregateAsync(request);
+                return privateUnlinkKongregateAsync(null, request);
             }
         });
     }
@@ -8953,7 +8814,7 @@ public class PlayFabClientAPI {
     public static PlayFabResult<UnlinkKongregateAccountResult> UnlinkKongregate(final UnlinkKongregateAccountRequest request) {
         FutureTask<PlayFabResult<UnlinkKongregateAccountResult>> task = new FutureTask(new Callable<PlayFabResult<UnlinkKongregateAccountResult>>() {
             public PlayFabResult<UnlinkKongregateAccountResult> call() throws Exception {
-                return privateUnlinkKongregateAsync(request);
+                return privateUnlinkKongregateAsync(null, request);
             }
         });
         try {
@@ -8968,10 +8829,11 @@ public class PlayFabClientAPI {
 
     /** Unlinks the related Kongregate identifier from the user's PlayFab account */
     @SuppressWarnings("unchecked")
-    private static PlayFabResult<UnlinkKongregateAccountResult> privateUnlinkKongregateAsync(final UnlinkKongregateAccountRequest request) throws Exception {
-        if (PlayFabSettings.ClientSessionTicket == null) throw new Exception ("Must be logged in to call this method");
+    static PlayFabResult<UnlinkKongregateAccountResult> privateUnlinkKongregateAsync(final PlayFabInstanceAPI instance, final UnlinkKongregateAccountRequest request) throws Exception {
+        final PlayFabApiContext context = PlayFabInstanceAPI.contextOf(instance);
+        if (context.getClientSessionTicket() == null) throw new Exception ("Must be logged in to call this method");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Client/UnlinkKongregate"), request, "X-Authorization", PlayFabSettings.ClientSessionTicket);
+        FutureTask<Object> task = PlayFabHTTP.doPost(context.getURL("/Client/UnlinkKongregate"), request, "X-Authorization", context.getClientSessionTicket(), UnlinkKongregateAccountResult.class);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -8982,9 +8844,7 @@ public class PlayFabClientAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
-
-        PlayFabJsonSuccess<UnlinkKongregateAccountResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<UnlinkKongregateAccountResult>>(){}.getType());
+        PlayFabJsonSuccess<UnlinkKongregateAccountResult> resultData = (PlayFabJsonSuccess<UnlinkKongregateAccountResult>) httpResult;
         UnlinkKongregateAccountResult result = resultData.data;
 
         PlayFabResult<UnlinkKongregateAccountResult> pfResult = new PlayFabResult<UnlinkKongregateAccountResult>();
@@ -9001,7 +8861,7 @@ public class PlayFabClientAPI {
     public static FutureTask<PlayFabResult<EmptyResponse>> UnlinkNintendoServiceAccountAsync(final UnlinkNintendoServiceAccountRequest request) {
         return new FutureTask(new Callable<PlayFabResult<EmptyResponse>>() {
             public PlayFabResult<EmptyResponse> call() throws Exception {
-                return privateUnlinkNintendoServiceAccountAsync(request);
+                return privateUnlinkNintendoServiceAccountAsync(null, request);
             }
         });
     }
@@ -9015,7 +8875,7 @@ public class PlayFabClientAPI {
     public static PlayFabResult<EmptyResponse> UnlinkNintendoServiceAccount(final UnlinkNintendoServiceAccountRequest request) {
         FutureTask<PlayFabResult<EmptyResponse>> task = new FutureTask(new Callable<PlayFabResult<EmptyResponse>>() {
             public PlayFabResult<EmptyResponse> call() throws Exception {
-                return privateUnlinkNintendoServiceAccountAsync(request);
+                return privateUnlinkNintendoServiceAccountAsync(null, request);
             }
         });
         try {
@@ -9030,10 +8890,11 @@ public class PlayFabClientAPI {
 
     /** Unlinks the related Nintendo account from the user's PlayFab account. */
     @SuppressWarnings("unchecked")
-    private static PlayFabResult<EmptyResponse> privateUnlinkNintendoServiceAccountAsync(final UnlinkNintendoServiceAccountRequest request) throws Exception {
-        if (PlayFabSettings.ClientSessionTicket == null) throw new Exception ("Must be logged in to call this method");
+    static PlayFabResult<EmptyResponse> privateUnlinkNintendoServiceAccountAsync(final PlayFabInstanceAPI instance, final UnlinkNintendoServiceAccountRequest request) throws Exception {
+        final PlayFabApiContext context = PlayFabInstanceAPI.contextOf(instance);
+        if (context.getClientSessionTicket() == null) throw new Exception ("Must be logged in to call this method");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Client/UnlinkNintendoServiceAccount"), request, "X-Authorization", PlayFabSettings.ClientSessionTicket);
+        FutureTask<Object> task = PlayFabHTTP.doPost(context.getURL("/Client/UnlinkNintendoServiceAccount"), request, "X-Authorization", context.getClientSessionTicket(), EmptyResponse.class);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -9044,9 +8905,7 @@ public class PlayFabClientAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
-
-        PlayFabJsonSuccess<EmptyResponse> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<EmptyResponse>>(){}.getType());
+        PlayFabJsonSuccess<EmptyResponse> resultData = (PlayFabJsonSuccess<EmptyResponse>) httpResult;
         EmptyResponse result = resultData.data;
 
         PlayFabResult<EmptyResponse> pfResult = new PlayFabResult<EmptyResponse>();
@@ -9063,7 +8922,7 @@ public class PlayFabClientAPI {
     public static FutureTask<PlayFabResult<UnlinkNintendoSwitchDeviceIdResult>> UnlinkNintendoSwitchDeviceIdAsync(final UnlinkNintendoSwitchDeviceIdRequest request) {
         return new FutureTask(new Callable<PlayFabResult<UnlinkNintendoSwitchDeviceIdResult>>() {
             public PlayFabResult<UnlinkNintendoSwitchDeviceIdResult> call() throws Exception {
-                return privateUnlinkNintendoSwitchDeviceIdAsync(request);
+                return privateUnlinkNintendoSwitchDeviceIdAsync(null, request);
             }
         });
     }
@@ -9077,7 +8936,7 @@ public class PlayFabClientAPI {
     public static PlayFabResult<UnlinkNintendoSwitchDeviceIdResult> UnlinkNintendoSwitchDeviceId(final UnlinkNintendoSwitchDeviceIdRequest request) {
         FutureTask<PlayFabResult<UnlinkNintendoSwitchDeviceIdResult>> task = new FutureTask(new Callable<PlayFabResult<UnlinkNintendoSwitchDeviceIdResult>>() {
             public PlayFabResult<UnlinkNintendoSwitchDeviceIdResult> call() throws Exception {
-                return privateUnlinkNintendoSwitchDeviceIdAsync(request);
+                return privateUnlinkNintendoSwitchDeviceIdAsync(null, request);
             }
         });
         try {
@@ -9092,10 +8951,11 @@ public class PlayFabClientAPI {
 
     /** Unlinks the related NintendoSwitchDeviceId from the user's PlayFab account */
     @SuppressWarnings("unchecked")
-    private static PlayFabResult<UnlinkNintendoSwitchDeviceIdResult> privateUnlinkNintendoSwitchDeviceIdAsync(final UnlinkNintendoSwitchDeviceIdRequest request) throws Exception {
-        if (PlayFabSettings.ClientSessionTicket == null) throw new Exception ("Must be logged in to call this method");
+    static PlayFabResult<UnlinkNintendoSwitchDeviceIdResult> privateUnlinkNintendoSwitchDeviceIdAsync(final PlayFabInstanceAPI instance, final UnlinkNintendoSwitchDeviceIdRequest request) throws Exception {
+        final PlayFabApiContext context = PlayFabInstanceAPI.contextOf(instance);
+        if (context.getClientSessionTicket() == null) throw new Exception ("Must be logged in to call this method");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Client/UnlinkNintendoSwitchDeviceId"), request, "X-Authorization", PlayFabSettings.ClientSessionTicket);
+        FutureTask<Object> task = PlayFabHTTP.doPost(context.getURL("/Client/UnlinkNintendoSwitchDeviceId"), request, "X-Authorization", context.getClientSessionTicket(), UnlinkNintendoSwitchDeviceIdResult.class);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -9106,9 +8966,7 @@ public class PlayFabClientAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
-
-        PlayFabJsonSuccess<UnlinkNintendoSwitchDeviceIdResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<UnlinkNintendoSwitchDeviceIdResult>>(){}.getType());
+        PlayFabJsonSuccess<UnlinkNintendoSwitchDeviceIdResult> resultData = (PlayFabJsonSuccess<UnlinkNintendoSwitchDeviceIdResult>) httpResult;
         UnlinkNintendoSwitchDeviceIdResult result = resultData.data;
 
         PlayFabResult<UnlinkNintendoSwitchDeviceIdResult> pfResult = new PlayFabResult<UnlinkNintendoSwitchDeviceIdResult>();
@@ -9126,7 +8984,7 @@ public class PlayFabClientAPI {
     public static FutureTask<PlayFabResult<EmptyResponse>> UnlinkOpenIdConnectAsync(final UnlinkOpenIdConnectRequest request) {
         return new FutureTask(new Callable<PlayFabResult<EmptyResponse>>() {
             public PlayFabResult<EmptyResponse> call() throws Exception {
-                return privateUnlinkOpenIdConnectAsync(request);
+                return privateUnlinkOpenIdConnectAsync(null, request);
             }
         });
     }
@@ -9141,7 +8999,7 @@ public class PlayFabClientAPI {
     public static PlayFabResult<EmptyResponse> UnlinkOpenIdConnect(final UnlinkOpenIdConnectRequest request) {
         FutureTask<PlayFabResult<EmptyResponse>> task = new FutureTask(new Callable<PlayFabResult<EmptyResponse>>() {
             public PlayFabResult<EmptyResponse> call() throws Exception {
-                return privateUnlinkOpenIdConnectAsync(request);
+                return privateUnlinkOpenIdConnectAsync(null, request);
             }
         });
         try {
@@ -9159,10 +9017,11 @@ public class PlayFabClientAPI {
      * between a title and an Open ID Connect provider.
      */
     @SuppressWarnings("unchecked")
-    private static PlayFabResult<EmptyResponse> privateUnlinkOpenIdConnectAsync(final UnlinkOpenIdConnectRequest request) throws Exception {
-        if (PlayFabSettings.ClientSessionTicket == null) throw new Exception ("Must be logged in to call this method");
+    static PlayFabResult<EmptyResponse> privateUnlinkOpenIdConnectAsync(final PlayFabInstanceAPI instance, final UnlinkOpenIdConnectRequest request) throws Exception {
+        final PlayFabApiContext context = PlayFabInstanceAPI.contextOf(instance);
+        if (context.getClientSessionTicket() == null) throw new Exception ("Must be logged in to call this method");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Client/UnlinkOpenIdConnect"), request, "X-Authorization", PlayFabSettings.ClientSessionTicket);
+        FutureTask<Object> task = PlayFabHTTP.doPost(context.getURL("/Client/UnlinkOpenIdConnect"), request, "X-Authorization", context.getClientSessionTicket(), EmptyResponse.class);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -9173,9 +9032,7 @@ public class PlayFabClientAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
-
-        PlayFabJsonSuccess<EmptyResponse> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<EmptyResponse>>(){}.getType());
+        PlayFabJsonSuccess<EmptyResponse> resultData = (PlayFabJsonSuccess<EmptyResponse>) httpResult;
         EmptyResponse result = resultData.data;
 
         PlayFabResult<EmptyResponse> pfResult = new PlayFabResult<EmptyResponse>();
@@ -9192,7 +9049,7 @@ public class PlayFabClientAPI {
     public static FutureTask<PlayFabResult<UnlinkPSNAccountResult>> UnlinkPSNAccountAsync(final UnlinkPSNAccountRequest request) {
         return new FutureTask(new Callable<PlayFabResult<UnlinkPSNAccountResult>>() {
             public PlayFabResult<UnlinkPSNAccountResult> call() throws Exception {
-                return privateUnlinkPSNAccountAsync(request);
+                return privateUnlinkPSNAccountAsync(null, request);
             }
         });
     }
@@ -9206,7 +9063,7 @@ public class PlayFabClientAPI {
     public static PlayFabResult<UnlinkPSNAccountResult> UnlinkPSNAccount(final UnlinkPSNAccountRequest request) {
         FutureTask<PlayFabResult<UnlinkPSNAccountResult>> task = new FutureTask(new Callable<PlayFabResult<UnlinkPSNAccountResult>>() {
             public PlayFabResult<UnlinkPSNAccountResult> call() throws Exception {
-                return privateUnlinkPSNAccountAsync(request);
+                return privateUnlinkPSNAccountAsync(null, request);
             }
         });
         try {
@@ -9221,10 +9078,11 @@ public class PlayFabClientAPI {
 
     /** Unlinks the related PSN account from the user's PlayFab account */
     @SuppressWarnings("unchecked")
-    private static PlayFabResult<UnlinkPSNAccountResult> privateUnlinkPSNAccountAsync(final UnlinkPSNAccountRequest request) throws Exception {
-        if (PlayFabSettings.ClientSessionTicket == null) throw new Exception ("Must be logged in to call this method");
+    static PlayFabResult<UnlinkPSNAccountResult> privateUnlinkPSNAccountAsync(final PlayFabInstanceAPI instance, final UnlinkPSNAccountRequest request) throws Exception {
+        final PlayFabApiContext context = PlayFabInstanceAPI.contextOf(instance);
+        if (context.getClientSessionTicket() == null) throw new Exception ("Must be logged in to call this method");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Client/UnlinkPSNAccount"), request, "X-Authorization", PlayFabSettings.ClientSessionTicket);
+        FutureTask<Object> task = PlayFabHTTP.doPost(context.getURL("/Client/UnlinkPSNAccount"), request, "X-Authorization", context.getClientSessionTicket(), UnlinkPSNAccountResult.class);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -9235,9 +9093,7 @@ public class PlayFabClientAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
-
-        PlayFabJsonSuccess<UnlinkPSNAccountResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<UnlinkPSNAccountResult>>(){}.getType());
+        PlayFabJsonSuccess<UnlinkPSNAccountResult> resultData = (PlayFabJsonSuccess<UnlinkPSNAccountResult>) httpResult;
         UnlinkPSNAccountResult result = resultData.data;
 
         PlayFabResult<UnlinkPSNAccountResult> pfResult = new PlayFabResult<UnlinkPSNAccountResult>();
@@ -9254,7 +9110,7 @@ public class PlayFabClientAPI {
     public static FutureTask<PlayFabResult<UnlinkSteamAccountResult>> UnlinkSteamAccountAsync(final UnlinkSteamAccountRequest request) {
         return new FutureTask(new Callable<PlayFabResult<UnlinkSteamAccountResult>>() {
             public PlayFabResult<UnlinkSteamAccountResult> call() throws Exception {
-                return privateUnlinkSteamAccountAsync(request);
+                return privateUnlinkSteamAccountAsync(null, request);
             }
         });
     }
@@ -9268,7 +9124,7 @@ public class PlayFabClientAPI {
     public static PlayFabResult<UnlinkSteamAccountResult> UnlinkSteamAccount(final UnlinkSteamAccountRequest request) {
         FutureTask<PlayFabResult<UnlinkSteamAccountResult>> task = new FutureTask(new Callable<PlayFabResult<UnlinkSteamAccountResult>>() {
             public PlayFabResult<UnlinkSteamAccountResult> call() throws Exception {
-                return privateUnlinkSteamAccountAsync(request);
+                return privateUnlinkSteamAccountAsync(null, request);
             }
         });
         try {
@@ -9283,10 +9139,11 @@ public class PlayFabClientAPI {
 
     /** Unlinks the related Steam account from the user's PlayFab account */
     @SuppressWarnings("unchecked")
-    private static PlayFabResult<UnlinkSteamAccountResult> privateUnlinkSteamAccountAsync(final UnlinkSteamAccountRequest request) throws Exception {
-        if (PlayFabSettings.ClientSessionTicket == null) throw new Exception ("Must be logged in to call this method");
+    static PlayFabResult<UnlinkSteamAccountResult> privateUnlinkSteamAccountAsync(final PlayFabInstanceAPI instance, final UnlinkSteamAccountRequest request) throws Exception {
+        final PlayFabApiContext context = PlayFabInstanceAPI.contextOf(instance);
+        if (context.getClientSessionTicket() == null) throw new Exception ("Must be logged in to call this method");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Client/UnlinkSteamAccount"), request, "X-Authorization", PlayFabSettings.ClientSessionTicket);
+        FutureTask<Object> task = PlayFabHTTP.doPost(context.getURL("/Client/UnlinkSteamAccount"), request, "X-Authorization", context.getClientSessionTicket(), UnlinkSteamAccountResult.class);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -9297,9 +9154,7 @@ public class PlayFabClientAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
-
-        PlayFabJsonSuccess<UnlinkSteamAccountResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<UnlinkSteamAccountResult>>(){}.getType());
+        PlayFabJsonSuccess<UnlinkSteamAccountResult> resultData = (PlayFabJsonSuccess<UnlinkSteamAccountResult>) httpResult;
         UnlinkSteamAccountResult result = resultData.data;
 
         PlayFabResult<UnlinkSteamAccountResult> pfResult = new PlayFabResult<UnlinkSteamAccountResult>();
@@ -9316,7 +9171,7 @@ public class PlayFabClientAPI {
     public static FutureTask<PlayFabResult<UnlinkTwitchAccountResult>> UnlinkTwitchAsync(final UnlinkTwitchAccountRequest request) {
         return new FutureTask(new Callable<PlayFabResult<UnlinkTwitchAccountResult>>() {
             public PlayFabResult<UnlinkTwitchAccountResult> call() throws Exception {
-                return privateUnlinkTwitchAsync(request);
+                return privateUnlinkTwitchAsync(null, request);
             }
         });
     }
@@ -9330,7 +9185,7 @@ public class PlayFabClientAPI {
     public static PlayFabResult<UnlinkTwitchAccountResult> UnlinkTwitch(final UnlinkTwitchAccountRequest request) {
         FutureTask<PlayFabResult<UnlinkTwitchAccountResult>> task = new FutureTask(new Callable<PlayFabResult<UnlinkTwitchAccountResult>>() {
             public PlayFabResult<UnlinkTwitchAccountResult> call() throws Exception {
-                return privateUnlinkTwitchAsync(request);
+                return privateUnlinkTwitchAsync(null, request);
             }
         });
         try {
@@ -9345,10 +9200,11 @@ public class PlayFabClientAPI {
 
     /** Unlinks the related Twitch account from the user's PlayFab account. */
     @SuppressWarnings("unchecked")
-    private static PlayFabResult<UnlinkTwitchAccountResult> privateUnlinkTwitchAsync(final UnlinkTwitchAccountRequest request) throws Exception {
-        if (PlayFabSettings.ClientSessionTicket == null) throw new Exception ("Must be logged in to call this method");
+    static PlayFabResult<UnlinkTwitchAccountResult> privateUnlinkTwitchAsync(final PlayFabInstanceAPI instance, final UnlinkTwitchAccountRequest request) throws Exception {
+        final PlayFabApiContext context = PlayFabInstanceAPI.contextOf(instance);
+        if (context.getClientSessionTicket() == null) throw new Exception ("Must be logged in to call this method");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Client/UnlinkTwitch"), request, "X-Authorization", PlayFabSettings.ClientSessionTicket);
+        FutureTask<Object> task = PlayFabHTTP.doPost(context.getURL("/Client/UnlinkTwitch"), request, "X-Authorization", context.getClientSessionTicket(), UnlinkTwitchAccountResult.class);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -9359,9 +9215,7 @@ public class PlayFabClientAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
-
-        PlayFabJsonSuccess<UnlinkTwitchAccountResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<UnlinkTwitchAccountResult>>(){}.getType());
+        PlayFabJsonSuccess<UnlinkTwitchAccountResult> resultData = (PlayFabJsonSuccess<UnlinkTwitchAccountResult>) httpResult;
         UnlinkTwitchAccountResult result = resultData.data;
 
         PlayFabResult<UnlinkTwitchAccountResult> pfResult = new PlayFabResult<UnlinkTwitchAccountResult>();
@@ -9378,7 +9232,7 @@ public class PlayFabClientAPI {
     public static FutureTask<PlayFabResult<UnlinkXboxAccountResult>> UnlinkXboxAccountAsync(final UnlinkXboxAccountRequest request) {
         return new FutureTask(new Callable<PlayFabResult<UnlinkXboxAccountResult>>() {
             public PlayFabResult<UnlinkXboxAccountResult> call() throws Exception {
-                return privateUnlinkXboxAccountAsync(request);
+                return privateUnlinkXboxAccountAsync(null, request);
             }
         });
     }
@@ -9392,7 +9246,7 @@ public class PlayFabClientAPI {
     public static PlayFabResult<UnlinkXboxAccountResult> UnlinkXboxAccount(final UnlinkXboxAccountRequest request) {
         FutureTask<PlayFabResult<UnlinkXboxAccountResult>> task = new FutureTask(new Callable<PlayFabResult<UnlinkXboxAccountResult>>() {
             public PlayFabResult<UnlinkXboxAccountResult> call() throws Exception {
-                return privateUnlinkXboxAccountAsync(request);
+                return privateUnlinkXboxAccountAsync(null, request);
             }
         });
         try {
@@ -9407,10 +9261,11 @@ public class PlayFabClientAPI {
 
     /** Unlinks the related Xbox Live account from the user's PlayFab account */
     @SuppressWarnings("unchecked")
-    private static PlayFabResult<UnlinkXboxAccountResult> privateUnlinkXboxAccountAsync(final UnlinkXboxAccountRequest request) throws Exception {
-        if (PlayFabSettings.ClientSessionTicket == null) throw new Exception ("Must be logged in to call this method");
+    static PlayFabResult<UnlinkXboxAccountResult> privateUnlinkXboxAccountAsync(final PlayFabInstanceAPI instance, final UnlinkXboxAccountRequest request) throws Exception {
+        final PlayFabApiContext context = PlayFabInstanceAPI.contextOf(instance);
+        if (context.getClientSessionTicket() == null) throw new Exception ("Must be logged in to call this method");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Client/UnlinkXboxAccount"), request, "X-Authorization", PlayFabSettings.ClientSessionTicket);
+        FutureTask<Object> task = PlayFabHTTP.doPost(context.getURL("/Client/UnlinkXboxAccount"), request, "X-Authorization", context.getClientSessionTicket(), UnlinkXboxAccountResult.class);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -9421,9 +9276,7 @@ public class PlayFabClientAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
-
-        PlayFabJsonSuccess<UnlinkXboxAccountResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<UnlinkXboxAccountResult>>(){}.getType());
+        PlayFabJsonSuccess<UnlinkXboxAccountResult> resultData = (PlayFabJsonSuccess<UnlinkXboxAccountResult>) httpResult;
         UnlinkXboxAccountResult result = resultData.data;
 
         PlayFabResult<UnlinkXboxAccountResult> pfResult = new PlayFabResult<UnlinkXboxAccountResult>();
@@ -9442,7 +9295,7 @@ public class PlayFabClientAPI {
     public static FutureTask<PlayFabResult<UnlockContainerItemResult>> UnlockContainerInstanceAsync(final UnlockContainerInstanceRequest request) {
         return new FutureTask(new Callable<PlayFabResult<UnlockContainerItemResult>>() {
             public PlayFabResult<UnlockContainerItemResult> call() throws Exception {
-                return privateUnlockContainerInstanceAsync(request);
+                return privateUnlockContainerInstanceAsync(null, request);
             }
         });
     }
@@ -9458,7 +9311,7 @@ public class PlayFabClientAPI {
     public static PlayFabResult<UnlockContainerItemResult> UnlockContainerInstance(final UnlockContainerInstanceRequest request) {
         FutureTask<PlayFabResult<UnlockContainerItemResult>> task = new FutureTask(new Callable<PlayFabResult<UnlockContainerItemResult>>() {
             public PlayFabResult<UnlockContainerItemResult> call() throws Exception {
-                return privateUnlockContainerInstanceAsync(request);
+                return privateUnlockContainerInstanceAsync(null, request);
             }
         });
         try {
@@ -9477,10 +9330,11 @@ public class PlayFabClientAPI {
      * consistent with the operation of ConsumeItem.
      */
     @SuppressWarnings("unchecked")
-    private static PlayFabResult<UnlockContainerItemResult> privateUnlockContainerInstanceAsync(final UnlockContainerInstanceRequest request) throws Exception {
-        if (PlayFabSettings.ClientSessionTicket == null) throw new Exception ("Must be logged in to call this method");
+    static PlayFabResult<UnlockContainerItemResult> privateUnlockContainerInstanceAsync(final PlayFabInstanceAPI instance, final UnlockContainerInstanceRequest request) throws Exception {
+        final PlayFabApiContext context = PlayFabInstanceAPI.contextOf(instance);
+        if (context.getClientSessionTicket() == null) throw new Exception ("Must be logged in to call this method");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Client/UnlockContainerInstance"), request, "X-Authorization", PlayFabSettings.ClientSessionTicket);
+        FutureTask<Object> task = PlayFabHTTP.doPost(context.getURL("/Client/UnlockContainerInstance"), request, "X-Authorization", context.getClientSessionTicket(), UnlockContainerItemResult.class);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -9491,9 +9345,7 @@ public class PlayFabClientAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
-
-        PlayFabJsonSuccess<UnlockContainerItemResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<UnlockContainerItemResult>>(){}.getType());
+        PlayFabJsonSuccess<UnlockContainerItemResult> resultData = (PlayFabJsonSuccess<UnlockContainerItemResult>) httpResult;
         UnlockContainerItemResult result = resultData.data;
 
         PlayFabResult<UnlockContainerItemResult> pfResult = new PlayFabResult<UnlockContainerItemResult>();
@@ -9512,7 +9364,7 @@ public class PlayFabClientAPI {
     public static FutureTask<PlayFabResult<UnlockContainerItemResult>> UnlockContainerItemAsync(final UnlockContainerItemRequest request) {
         return new FutureTask(new Callable<PlayFabResult<UnlockContainerItemResult>>() {
             public PlayFabResult<UnlockContainerItemResult> call() throws Exception {
-                return privateUnlockContainerItemAsync(request);
+                return privateUnlockContainerItemAsync(null, request);
             }
         });
     }
@@ -9528,7 +9380,7 @@ public class PlayFabClientAPI {
     public static PlayFabResult<UnlockContainerItemResult> UnlockContainerItem(final UnlockContainerItemRequest request) {
         FutureTask<PlayFabResult<UnlockContainerItemResult>> task = new FutureTask(new Callable<PlayFabResult<UnlockContainerItemResult>>() {
             public PlayFabResult<UnlockContainerItemResult> call() throws Exception {
-                return privateUnlockContainerItemAsync(request);
+                return privateUnlockContainerItemAsync(null, request);
             }
         });
         try {
@@ -9547,10 +9399,11 @@ public class PlayFabClientAPI {
      * consumable (RemainingUses &gt; 0), their RemainingUses will be decremented, consistent with the operation of ConsumeItem.
      */
     @SuppressWarnings("unchecked")
-    private static PlayFabResult<UnlockContainerItemResult> privateUnlockContainerItemAsync(final UnlockContainerItemRequest request) throws Exception {
-        if (PlayFabSettings.ClientSessionTicket == null) throw new Exception ("Must be logged in to call this method");
+    static PlayFabResult<UnlockContainerItemResult> privateUnlockContainerItemAsync(final PlayFabInstanceAPI instance, final UnlockContainerItemRequest request) throws Exception {
+        final PlayFabApiContext context = PlayFabInstanceAPI.contextOf(instance);
+        if (context.getClientSessionTicket() == null) throw new Exception ("Must be logged in to call this method");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Client/UnlockContainerItem"), request, "X-Authorization", PlayFabSettings.ClientSessionTicket);
+        FutureTask<Object> task = PlayFabHTTP.doPost(context.getURL("/Client/UnlockContainerItem"), request, "X-Authorization", context.getClientSessionTicket(), UnlockContainerItemResult.class);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -9561,9 +9414,7 @@ public class PlayFabClientAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
-
-        PlayFabJsonSuccess<UnlockContainerItemResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<UnlockContainerItemResult>>(){}.getType());
+        PlayFabJsonSuccess<UnlockContainerItemResult> resultData = (PlayFabJsonSuccess<UnlockContainerItemResult>) httpResult;
         UnlockContainerItemResult result = resultData.data;
 
         PlayFabResult<UnlockContainerItemResult> pfResult = new PlayFabResult<UnlockContainerItemResult>();
@@ -9580,7 +9431,7 @@ public class PlayFabClientAPI {
     public static FutureTask<PlayFabResult<EmptyResponse>> UpdateAvatarUrlAsync(final UpdateAvatarUrlRequest request) {
         return new FutureTask(new Callable<PlayFabResult<EmptyResponse>>() {
             public PlayFabResult<EmptyResponse> call() throws Exception {
-                return privateUpdateAvatarUrlAsync(request);
+                return privateUpdateAvatarUrlAsync(null, request);
             }
         });
     }
@@ -9594,7 +9445,7 @@ public class PlayFabClientAPI {
     public static PlayFabResult<EmptyResponse> UpdateAvatarUrl(final UpdateAvatarUrlRequest request) {
         FutureTask<PlayFabResult<EmptyResponse>> task = new FutureTask(new Callable<PlayFabResult<EmptyResponse>>() {
             public PlayFabResult<EmptyResponse> call() throws Exception {
-                return privateUpdateAvatarUrlAsync(request);
+                return privateUpdateAvatarUrlAsync(null, request);
             }
         });
         try {
@@ -9609,10 +9460,11 @@ public class PlayFabClientAPI {
 
     /** Update the avatar URL of the player */
     @SuppressWarnings("unchecked")
-    private static PlayFabResult<EmptyResponse> privateUpdateAvatarUrlAsync(final UpdateAvatarUrlRequest request) throws Exception {
-        if (PlayFabSettings.ClientSessionTicket == null) throw new Exception ("Must be logged in to call this method");
+    static PlayFabResult<EmptyResponse> privateUpdateAvatarUrlAsync(final PlayFabInstanceAPI instance, final UpdateAvatarUrlRequest request) throws Exception {
+        final PlayFabApiContext context = PlayFabInstanceAPI.contextOf(instance);
+        if (context.getClientSessionTicket() == null) throw new Exception ("Must be logged in to call this method");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Client/UpdateAvatarUrl"), request, "X-Authorization", PlayFabSettings.ClientSessionTicket);
+        FutureTask<Object> task = PlayFabHTTP.doPost(context.getURL("/Client/UpdateAvatarUrl"), request, "X-Authorization", context.getClientSessionTicket(), EmptyResponse.class);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -9623,9 +9475,7 @@ public class PlayFabClientAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
-
-        PlayFabJsonSuccess<EmptyResponse> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<EmptyResponse>>(){}.getType());
+        PlayFabJsonSuccess<EmptyResponse> resultData = (PlayFabJsonSuccess<EmptyResponse>) httpResult;
         EmptyResponse result = resultData.data;
 
         PlayFabResult<EmptyResponse> pfResult = new PlayFabResult<EmptyResponse>();
@@ -9642,7 +9492,7 @@ public class PlayFabClientAPI {
     public static FutureTask<PlayFabResult<UpdateCharacterDataResult>> UpdateCharacterDataAsync(final UpdateCharacterDataRequest request) {
         return new FutureTask(new Callable<PlayFabResult<UpdateCharacterDataResult>>() {
             public PlayFabResult<UpdateCharacterDataResult> call() throws Exception {
-                return privateUpdateCharacterDataAsync(request);
+                return privateUpdateCharacterDataAsync(null, request);
             }
         });
     }
@@ -9656,7 +9506,7 @@ public class PlayFabClientAPI {
     public static PlayFabResult<UpdateCharacterDataResult> UpdateCharacterData(final UpdateCharacterDataRequest request) {
         FutureTask<PlayFabResult<UpdateCharacterDataResult>> task = new FutureTask(new Callable<PlayFabResult<UpdateCharacterDataResult>>() {
             public PlayFabResult<UpdateCharacterDataResult> call() throws Exception {
-                return privateUpdateCharacterDataAsync(request);
+                return privateUpdateCharacterDataAsync(null, request);
             }
         });
         try {
@@ -9671,10 +9521,11 @@ public class PlayFabClientAPI {
 
     /** Creates and updates the title-specific custom data for the user's character which is readable and writable by the client */
     @SuppressWarnings("unchecked")
-    private static PlayFabResult<UpdateCharacterDataResult> privateUpdateCharacterDataAsync(final UpdateCharacterDataRequest request) throws Exception {
-        if (PlayFabSettings.ClientSessionTicket == null) throw new Exception ("Must be logged in to call this method");
+    static PlayFabResult<UpdateCharacterDataResult> privateUpdateCharacterDataAsync(final PlayFabInstanceAPI instance, final UpdateCharacterDataRequest request) throws Exception {
+        final PlayFabApiContext context = PlayFabInstanceAPI.contextOf(instance);
+        if (context.getClientSessionTicket() == null) throw new Exception ("Must be logged in to call this method");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Client/UpdateCharacterData"), request, "X-Authorization", PlayFabSettings.ClientSessionTicket);
+        FutureTask<Object> task = PlayFabHTTP.doPost(context.getURL("/Client/UpdateCharacterData"), request, "X-Authorization", context.getClientSessionTicket(), UpdateCharacterDataResult.class);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -9685,9 +9536,7 @@ public class PlayFabClientAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
-
-        PlayFabJsonSuccess<UpdateCharacterDataResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<UpdateCharacterDataResult>>(){}.getType());
+        PlayFabJsonSuccess<UpdateCharacterDataResult> resultData = (PlayFabJsonSuccess<UpdateCharacterDataResult>) httpResult;
         UpdateCharacterDataResult result = resultData.data;
 
         PlayFabResult<UpdateCharacterDataResult> pfResult = new PlayFabResult<UpdateCharacterDataResult>();
@@ -9705,7 +9554,7 @@ public class PlayFabClientAPI {
     public static FutureTask<PlayFabResult<UpdateCharacterStatisticsResult>> UpdateCharacterStatisticsAsync(final UpdateCharacterStatisticsRequest request) {
         return new FutureTask(new Callable<PlayFabResult<UpdateCharacterStatisticsResult>>() {
             public PlayFabResult<UpdateCharacterStatisticsResult> call() throws Exception {
-                return privateUpdateCharacterStatisticsAsync(request);
+                return privateUpdateCharacterStatisticsAsync(null, request);
             }
         });
     }
@@ -9720,7 +9569,7 @@ public class PlayFabClientAPI {
     public static PlayFabResult<UpdateCharacterStatisticsResult> UpdateCharacterStatistics(final UpdateCharacterStatisticsRequest request) {
         FutureTask<PlayFabResult<UpdateCharacterStatisticsResult>> task = new FutureTask(new Callable<PlayFabResult<UpdateCharacterStatisticsResult>>() {
             public PlayFabResult<UpdateCharacterStatisticsResult> call() throws Exception {
-                return privateUpdateCharacterStatisticsAsync(request);
+                return privateUpdateCharacterStatisticsAsync(null, request);
             }
         });
         try {
@@ -9738,10 +9587,11 @@ public class PlayFabClientAPI {
      * permitted to update statistics. Developers may override this setting in the Game Manager &gt; Settings &gt; API Features.
      */
     @SuppressWarnings("unchecked")
-    private static PlayFabResult<UpdateCharacterStatisticsResult> privateUpdateCharacterStatisticsAsync(final UpdateCharacterStatisticsRequest request) throws Exception {
-        if (PlayFabSettings.ClientSessionTicket == null) throw new Exception ("Must be logged in to call this method");
+    static PlayFabResult<UpdateCharacterStatisticsResult> privateUpdateCharacterStatisticsAsync(final PlayFabInstanceAPI instance, final UpdateCharacterStatisticsRequest request) throws Exception {
+        final PlayFabApiContext context = PlayFabInstanceAPI.contextOf(instance);
+        if (context.getClientSessionTicket() == null) throw new Exception ("Must be logged in to call this method");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Client/UpdateCharacterStatistics"), request, "X-Authorization", PlayFabSettings.ClientSessionTicket);
+        FutureTask<Object> task = PlayFabHTTP.doPost(context.getURL("/Client/UpdateCharacterStatistics"), request, "X-Authorization", context.getClientSessionTicket(), UpdateCharacterStatisticsResult.class);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -9752,9 +9602,7 @@ public class PlayFabClientAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
-
-        PlayFabJsonSuccess<UpdateCharacterStatisticsResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<UpdateCharacterStatisticsResult>>(){}.getType());
+        PlayFabJsonSuccess<UpdateCharacterStatisticsResult> resultData = (PlayFabJsonSuccess<UpdateCharacterStatisticsResult>) httpResult;
         UpdateCharacterStatisticsResult result = resultData.data;
 
         PlayFabResult<UpdateCharacterStatisticsResult> pfResult = new PlayFabResult<UpdateCharacterStatisticsResult>();
@@ -9772,7 +9620,7 @@ public class PlayFabClientAPI {
     public static FutureTask<PlayFabResult<UpdatePlayerStatisticsResult>> UpdatePlayerStatisticsAsync(final UpdatePlayerStatisticsRequest request) {
         return new FutureTask(new Callable<PlayFabResult<UpdatePlayerStatisticsResult>>() {
             public PlayFabResult<UpdatePlayerStatisticsResult> call() throws Exception {
-                return privateUpdatePlayerStatisticsAsync(request);
+                return privateUpdatePlayerStatisticsAsync(null, request);
             }
         });
     }
@@ -9787,7 +9635,7 @@ public class PlayFabClientAPI {
     public static PlayFabResult<UpdatePlayerStatisticsResult> UpdatePlayerStatistics(final UpdatePlayerStatisticsRequest request) {
         FutureTask<PlayFabResult<UpdatePlayerStatisticsResult>> task = new FutureTask(new Callable<PlayFabResult<UpdatePlayerStatisticsResult>>() {
             public PlayFabResult<UpdatePlayerStatisticsResult> call() throws Exception {
-                return privateUpdatePlayerStatisticsAsync(request);
+                return privateUpdatePlayerStatisticsAsync(null, request);
             }
         });
         try {
@@ -9805,10 +9653,11 @@ public class PlayFabClientAPI {
      * update statistics. Developers may override this setting in the Game Manager &gt; Settings &gt; API Features.
      */
     @SuppressWarnings("unchecked")
-    private static PlayFabResult<UpdatePlayerStatisticsResult> privateUpdatePlayerStatisticsAsync(final UpdatePlayerStatisticsRequest request) throws Exception {
-        if (PlayFabSettings.ClientSessionTicket == null) throw new Exception ("Must be logged in to call this method");
+    static PlayFabResult<UpdatePlayerStatisticsResult> privateUpdatePlayerStatisticsAsync(final PlayFabInstanceAPI instance, final UpdatePlayerStatisticsRequest request) throws Exception {
+        final PlayFabApiContext context = PlayFabInstanceAPI.contextOf(instance);
+        if (context.getClientSessionTicket() == null) throw new Exception ("Must be logged in to call this method");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Client/UpdatePlayerStatistics"), request, "X-Authorization", PlayFabSettings.ClientSessionTicket);
+        FutureTask<Object> task = PlayFabHTTP.doPost(context.getURL("/Client/UpdatePlayerStatistics"), request, "X-Authorization", context.getClientSessionTicket(), UpdatePlayerStatisticsResult.class);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -9819,9 +9668,7 @@ public class PlayFabClientAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
-
-        PlayFabJsonSuccess<UpdatePlayerStatisticsResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<UpdatePlayerStatisticsResult>>(){}.getType());
+        PlayFabJsonSuccess<UpdatePlayerStatisticsResult> resultData = (PlayFabJsonSuccess<UpdatePlayerStatisticsResult>) httpResult;
         UpdatePlayerStatisticsResult result = resultData.data;
 
         PlayFabResult<UpdatePlayerStatisticsResult> pfResult = new PlayFabResult<UpdatePlayerStatisticsResult>();
@@ -9842,7 +9689,7 @@ public class PlayFabClientAPI {
     public static FutureTask<PlayFabResult<UpdateSharedGroupDataResult>> UpdateSharedGroupDataAsync(final UpdateSharedGroupDataRequest request) {
         return new FutureTask(new Callable<PlayFabResult<UpdateSharedGroupDataResult>>() {
             public PlayFabResult<UpdateSharedGroupDataResult> call() throws Exception {
-                return privateUpdateSharedGroupDataAsync(request);
+                return privateUpdateSharedGroupDataAsync(null, request);
             }
         });
     }
@@ -9860,7 +9707,7 @@ public class PlayFabClientAPI {
     public static PlayFabResult<UpdateSharedGroupDataResult> UpdateSharedGroupData(final UpdateSharedGroupDataRequest request) {
         FutureTask<PlayFabResult<UpdateSharedGroupDataResult>> task = new FutureTask(new Callable<PlayFabResult<UpdateSharedGroupDataResult>>() {
             public PlayFabResult<UpdateSharedGroupDataResult> call() throws Exception {
-                return privateUpdateSharedGroupDataAsync(request);
+                return privateUpdateSharedGroupDataAsync(null, request);
             }
         });
         try {
@@ -9881,10 +9728,11 @@ public class PlayFabClientAPI {
      * https://docs.microsoft.com/gaming/playfab/features/social/groups/using-shared-group-data
      */
     @SuppressWarnings("unchecked")
-    private static PlayFabResult<UpdateSharedGroupDataResult> privateUpdateSharedGroupDataAsync(final UpdateSharedGroupDataRequest request) throws Exception {
-        if (PlayFabSettings.ClientSessionTicket == null) throw new Exception ("Must be logged in to call this method");
+    static PlayFabResult<UpdateSharedGroupDataResult> privateUpdateSharedGroupDataAsync(final PlayFabInstanceAPI instance, final UpdateSharedGroupDataRequest request) throws Exception {
+        final PlayFabApiContext context = PlayFabInstanceAPI.contextOf(instance);
+        if (context.getClientSessionTicket() == null) throw new Exception ("Must be logged in to call this method");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Client/UpdateSharedGroupData"), request, "X-Authorization", PlayFabSettings.ClientSessionTicket);
+        FutureTask<Object> task = PlayFabHTTP.doPost(context.getURL("/Client/UpdateSharedGroupData"), request, "X-Authorization", context.getClientSessionTicket(), UpdateSharedGroupDataResult.class);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -9895,9 +9743,7 @@ public class PlayFabClientAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
-
-        PlayFabJsonSuccess<UpdateSharedGroupDataResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<UpdateSharedGroupDataResult>>(){}.getType());
+        PlayFabJsonSuccess<UpdateSharedGroupDataResult> resultData = (PlayFabJsonSuccess<UpdateSharedGroupDataResult>) httpResult;
         UpdateSharedGroupDataResult result = resultData.data;
 
         PlayFabResult<UpdateSharedGroupDataResult> pfResult = new PlayFabResult<UpdateSharedGroupDataResult>();
@@ -9914,7 +9760,7 @@ public class PlayFabClientAPI {
     public static FutureTask<PlayFabResult<UpdateUserDataResult>> UpdateUserDataAsync(final UpdateUserDataRequest request) {
         return new FutureTask(new Callable<PlayFabResult<UpdateUserDataResult>>() {
             public PlayFabResult<UpdateUserDataResult> call() throws Exception {
-                return privateUpdateUserDataAsync(request);
+                return privateUpdateUserDataAsync(null, request);
             }
         });
     }
@@ -9928,7 +9774,7 @@ public class PlayFabClientAPI {
     public static PlayFabResult<UpdateUserDataResult> UpdateUserData(final UpdateUserDataRequest request) {
         FutureTask<PlayFabResult<UpdateUserDataResult>> task = new FutureTask(new Callable<PlayFabResult<UpdateUserDataResult>>() {
             public PlayFabResult<UpdateUserDataResult> call() throws Exception {
-                return privateUpdateUserDataAsync(request);
+                return privateUpdateUserDataAsync(null, request);
             }
         });
         try {
@@ -9943,10 +9789,11 @@ public class PlayFabClientAPI {
 
     /** Creates and updates the title-specific custom data for the user which is readable and writable by the client */
     @SuppressWarnings("unchecked")
-    private static PlayFabResult<UpdateUserDataResult> privateUpdateUserDataAsync(final UpdateUserDataRequest request) throws Exception {
-        if (PlayFabSettings.ClientSessionTicket == null) throw new Exception ("Must be logged in to call this method");
+    static PlayFabResult<UpdateUserDataResult> privateUpdateUserDataAsync(final PlayFabInstanceAPI instance, final UpdateUserDataRequest request) throws Exception {
+        final PlayFabApiContext context = PlayFabInstanceAPI.contextOf(instance);
+        if (context.getClientSessionTicket() == null) throw new Exception ("Must be logged in to call this method");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Client/UpdateUserData"), request, "X-Authorization", PlayFabSettings.ClientSessionTicket);
+        FutureTask<Object> task = PlayFabHTTP.doPost(context.getURL("/Client/UpdateUserData"), request, "X-Authorization", context.getClientSessionTicket(), UpdateUserDataResult.class);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -9957,9 +9804,7 @@ public class PlayFabClientAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
-
-        PlayFabJsonSuccess<UpdateUserDataResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<UpdateUserDataResult>>(){}.getType());
+        PlayFabJsonSuccess<UpdateUserDataResult> resultData = (PlayFabJsonSuccess<UpdateUserDataResult>) httpResult;
         UpdateUserDataResult result = resultData.data;
 
         PlayFabResult<UpdateUserDataResult> pfResult = new PlayFabResult<UpdateUserDataResult>();
@@ -9976,7 +9821,7 @@ public class PlayFabClientAPI {
     public static FutureTask<PlayFabResult<UpdateUserDataResult>> UpdateUserPublisherDataAsync(final UpdateUserDataRequest request) {
         return new FutureTask(new Callable<PlayFabResult<UpdateUserDataResult>>() {
             public PlayFabResult<UpdateUserDataResult> call() throws Exception {
-                return privateUpdateUserPublisherDataAsync(request);
+                return privateUpdateUserPublisherDataAsync(null, request);
             }
         });
     }
@@ -9990,7 +9835,7 @@ public class PlayFabClientAPI {
     public static PlayFabResult<UpdateUserDataResult> UpdateUserPublisherData(final UpdateUserDataRequest request) {
         FutureTask<PlayFabResult<UpdateUserDataResult>> task = new FutureTask(new Callable<PlayFabResult<UpdateUserDataResult>>() {
             public PlayFabResult<UpdateUserDataResult> call() throws Exception {
-                return privateUpdateUserPublisherDataAsync(request);
+                return privateUpdateUserPublisherDataAsync(null, request);
             }
         });
         try {
@@ -10005,10 +9850,11 @@ public class PlayFabClientAPI {
 
     /** Creates and updates the publisher-specific custom data for the user which is readable and writable by the client */
     @SuppressWarnings("unchecked")
-    private static PlayFabResult<UpdateUserDataResult> privateUpdateUserPublisherDataAsync(final UpdateUserDataRequest request) throws Exception {
-        if (PlayFabSettings.ClientSessionTicket == null) throw new Exception ("Must be logged in to call this method");
+    static PlayFabResult<UpdateUserDataResult> privateUpdateUserPublisherDataAsync(final PlayFabInstanceAPI instance, final UpdateUserDataRequest request) throws Exception {
+        final PlayFabApiContext context = PlayFabInstanceAPI.contextOf(instance);
+        if (context.getClientSessionTicket() == null) throw new Exception ("Must be logged in to call this method");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Client/UpdateUserPublisherData"), request, "X-Authorization", PlayFabSettings.ClientSessionTicket);
+        FutureTask<Object> task = PlayFabHTTP.doPost(context.getURL("/Client/UpdateUserPublisherData"), request, "X-Authorization", context.getClientSessionTicket(), UpdateUserDataResult.class);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -10019,9 +9865,7 @@ public class PlayFabClientAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
-
-        PlayFabJsonSuccess<UpdateUserDataResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<UpdateUserDataResult>>(){}.getType());
+        PlayFabJsonSuccess<UpdateUserDataResult> resultData = (PlayFabJsonSuccess<UpdateUserDataResult>) httpResult;
         UpdateUserDataResult result = resultData.data;
 
         PlayFabResult<UpdateUserDataResult> pfResult = new PlayFabResult<UpdateUserDataResult>();
@@ -10038,7 +9882,7 @@ public class PlayFabClientAPI {
     public static FutureTask<PlayFabResult<UpdateUserTitleDisplayNameResult>> UpdateUserTitleDisplayNameAsync(final UpdateUserTitleDisplayNameRequest request) {
         return new FutureTask(new Callable<PlayFabResult<UpdateUserTitleDisplayNameResult>>() {
             public PlayFabResult<UpdateUserTitleDisplayNameResult> call() throws Exception {
-                return privateUpdateUserTitleDisplayNameAsync(request);
+                return privateUpdateUserTitleDisplayNameAsync(null, request);
             }
         });
     }
@@ -10052,7 +9896,7 @@ public class PlayFabClientAPI {
     public static PlayFabResult<UpdateUserTitleDisplayNameResult> UpdateUserTitleDisplayName(final UpdateUserTitleDisplayNameRequest request) {
         FutureTask<PlayFabResult<UpdateUserTitleDisplayNameResult>> task = new FutureTask(new Callable<PlayFabResult<UpdateUserTitleDisplayNameResult>>() {
             public PlayFabResult<UpdateUserTitleDisplayNameResult> call() throws Exception {
-                return privateUpdateUserTitleDisplayNameAsync(request);
+                return privateUpdateUserTitleDisplayNameAsync(null, request);
             }
         });
         try {
@@ -10067,10 +9911,11 @@ public class PlayFabClientAPI {
 
     /** Updates the title specific display name for the user */
     @SuppressWarnings("unchecked")
-    private static PlayFabResult<UpdateUserTitleDisplayNameResult> privateUpdateUserTitleDisplayNameAsync(final UpdateUserTitleDisplayNameRequest request) throws Exception {
-        if (PlayFabSettings.ClientSessionTicket == null) throw new Exception ("Must be logged in to call this method");
+    static PlayFabResult<UpdateUserTitleDisplayNameResult> privateUpdateUserTitleDisplayNameAsync(final PlayFabInstanceAPI instance, final UpdateUserTitleDisplayNameRequest request) throws Exception {
+        final PlayFabApiContext context = PlayFabInstanceAPI.contextOf(instance);
+        if (context.getClientSessionTicket() == null) throw new Exception ("Must be logged in to call this method");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Client/UpdateUserTitleDisplayName"), request, "X-Authorization", PlayFabSettings.ClientSessionTicket);
+        FutureTask<Object> task = PlayFabHTTP.doPost(context.getURL("/Client/UpdateUserTitleDisplayName"), request, "X-Authorization", context.getClientSessionTicket(), UpdateUserTitleDisplayNameResult.class);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -10081,9 +9926,7 @@ public class PlayFabClientAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
-
-        PlayFabJsonSuccess<UpdateUserTitleDisplayNameResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<UpdateUserTitleDisplayNameResult>>(){}.getType());
+        PlayFabJsonSuccess<UpdateUserTitleDisplayNameResult> resultData = (PlayFabJsonSuccess<UpdateUserTitleDisplayNameResult>) httpResult;
         UpdateUserTitleDisplayNameResult result = resultData.data;
 
         PlayFabResult<UpdateUserTitleDisplayNameResult> pfResult = new PlayFabResult<UpdateUserTitleDisplayNameResult>();
@@ -10101,7 +9944,7 @@ public class PlayFabClientAPI {
     public static FutureTask<PlayFabResult<ValidateAmazonReceiptResult>> ValidateAmazonIAPReceiptAsync(final ValidateAmazonReceiptRequest request) {
         return new FutureTask(new Callable<PlayFabResult<ValidateAmazonReceiptResult>>() {
             public PlayFabResult<ValidateAmazonReceiptResult> call() throws Exception {
-                return privateValidateAmazonIAPReceiptAsync(request);
+                return privateValidateAmazonIAPReceiptAsync(null, request);
             }
         });
     }
@@ -10116,7 +9959,7 @@ public class PlayFabClientAPI {
     public static PlayFabResult<ValidateAmazonReceiptResult> ValidateAmazonIAPReceipt(final ValidateAmazonReceiptRequest request) {
         FutureTask<PlayFabResult<ValidateAmazonReceiptResult>> task = new FutureTask(new Callable<PlayFabResult<ValidateAmazonReceiptResult>>() {
             public PlayFabResult<ValidateAmazonReceiptResult> call() throws Exception {
-                return privateValidateAmazonIAPReceiptAsync(request);
+                return privateValidateAmazonIAPReceiptAsync(null, request);
             }
         });
         try {
@@ -10134,10 +9977,11 @@ public class PlayFabClientAPI {
      * purchased catalog item
      */
     @SuppressWarnings("unchecked")
-    private static PlayFabResult<ValidateAmazonReceiptResult> privateValidateAmazonIAPReceiptAsync(final ValidateAmazonReceiptRequest request) throws Exception {
-        if (PlayFabSettings.ClientSessionTicket == null) throw new Exception ("Must be logged in to call this method");
+    static PlayFabResult<ValidateAmazonReceiptResult> privateValidateAmazonIAPReceiptAsync(final PlayFabInstanceAPI instance, final ValidateAmazonReceiptRequest request) throws Exception {
+        final PlayFabApiContext context = PlayFabInstanceAPI.contextOf(instance);
+        if (context.getClientSessionTicket() == null) throw new Exception ("Must be logged in to call this method");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Client/ValidateAmazonIAPReceipt"), request, "X-Authorization", PlayFabSettings.ClientSessionTicket);
+        FutureTask<Object> task = PlayFabHTTP.doPost(context.getURL("/Client/ValidateAmazonIAPReceipt"), request, "X-Authorization", context.getClientSessionTicket(), ValidateAmazonReceiptResult.class);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -10148,9 +9992,7 @@ public class PlayFabClientAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
-
-        PlayFabJsonSuccess<ValidateAmazonReceiptResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<ValidateAmazonReceiptResult>>(){}.getType());
+        PlayFabJsonSuccess<ValidateAmazonReceiptResult> resultData = (PlayFabJsonSuccess<ValidateAmazonReceiptResult>) httpResult;
         ValidateAmazonReceiptResult result = resultData.data;
 
         PlayFabResult<ValidateAmazonReceiptResult> pfResult = new PlayFabResult<ValidateAmazonReceiptResult>();
@@ -10167,7 +10009,7 @@ public class PlayFabClientAPI {
     public static FutureTask<PlayFabResult<ValidateGooglePlayPurchaseResult>> ValidateGooglePlayPurchaseAsync(final ValidateGooglePlayPurchaseRequest request) {
         return new FutureTask(new Callable<PlayFabResult<ValidateGooglePlayPurchaseResult>>() {
             public PlayFabResult<ValidateGooglePlayPurchaseResult> call() throws Exception {
-                return privateValidateGooglePlayPurchaseAsync(request);
+                return privateValidateGooglePlayPurchaseAsync(null, request);
             }
         });
     }
@@ -10181,7 +10023,7 @@ public class PlayFabClientAPI {
     public static PlayFabResult<ValidateGooglePlayPurchaseResult> ValidateGooglePlayPurchase(final ValidateGooglePlayPurchaseRequest request) {
         FutureTask<PlayFabResult<ValidateGooglePlayPurchaseResult>> task = new FutureTask(new Callable<PlayFabResult<ValidateGooglePlayPurchaseResult>>() {
             public PlayFabResult<ValidateGooglePlayPurchaseResult> call() throws Exception {
-                return privateValidateGooglePlayPurchaseAsync(request);
+                return privateValidateGooglePlayPurchaseAsync(null, request);
             }
         });
         try {
@@ -10196,10 +10038,11 @@ public class PlayFabClientAPI {
 
     /** Validates a Google Play purchase and gives the corresponding item to the player. */
     @SuppressWarnings("unchecked")
-    private static PlayFabResult<ValidateGooglePlayPurchaseResult> privateValidateGooglePlayPurchaseAsync(final ValidateGooglePlayPurchaseRequest request) throws Exception {
-        if (PlayFabSettings.ClientSessionTicket == null) throw new Exception ("Must be logged in to call this method");
+    static PlayFabResult<ValidateGooglePlayPurchaseResult> privateValidateGooglePlayPurchaseAsync(final PlayFabInstanceAPI instance, final ValidateGooglePlayPurchaseRequest request) throws Exception {
+        final PlayFabApiContext context = PlayFabInstanceAPI.contextOf(instance);
+        if (context.getClientSessionTicket() == null) throw new Exception ("Must be logged in to call this method");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Client/ValidateGooglePlayPurchase"), request, "X-Authorization", PlayFabSettings.ClientSessionTicket);
+        FutureTask<Object> task = PlayFabHTTP.doPost(context.getURL("/Client/ValidateGooglePlayPurchase"), request, "X-Authorization", context.getClientSessionTicket(), ValidateGooglePlayPurchaseResult.class);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -10210,9 +10053,7 @@ public class PlayFabClientAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
-
-        PlayFabJsonSuccess<ValidateGooglePlayPurchaseResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<ValidateGooglePlayPurchaseResult>>(){}.getType());
+        PlayFabJsonSuccess<ValidateGooglePlayPurchaseResult> resultData = (PlayFabJsonSuccess<ValidateGooglePlayPurchaseResult>) httpResult;
         ValidateGooglePlayPurchaseResult result = resultData.data;
 
         PlayFabResult<ValidateGooglePlayPurchaseResult> pfResult = new PlayFabResult<ValidateGooglePlayPurchaseResult>();
@@ -10230,7 +10071,7 @@ public class PlayFabClientAPI {
     public static FutureTask<PlayFabResult<ValidateIOSReceiptResult>> ValidateIOSReceiptAsync(final ValidateIOSReceiptRequest request) {
         return new FutureTask(new Callable<PlayFabResult<ValidateIOSReceiptResult>>() {
             public PlayFabResult<ValidateIOSReceiptResult> call() throws Exception {
-                return privateValidateIOSReceiptAsync(request);
+                return privateValidateIOSReceiptAsync(null, request);
             }
         });
     }
@@ -10245,7 +10086,7 @@ public class PlayFabClientAPI {
     public static PlayFabResult<ValidateIOSReceiptResult> ValidateIOSReceipt(final ValidateIOSReceiptRequest request) {
         FutureTask<PlayFabResult<ValidateIOSReceiptResult>> task = new FutureTask(new Callable<PlayFabResult<ValidateIOSReceiptResult>>() {
             public PlayFabResult<ValidateIOSReceiptResult> call() throws Exception {
-                return privateValidateIOSReceiptAsync(request);
+                return privateValidateIOSReceiptAsync(null, request);
             }
         });
         try {
@@ -10263,10 +10104,11 @@ public class PlayFabClientAPI {
      * catalog item
      */
     @SuppressWarnings("unchecked")
-    private static PlayFabResult<ValidateIOSReceiptResult> privateValidateIOSReceiptAsync(final ValidateIOSReceiptRequest request) throws Exception {
-        if (PlayFabSettings.ClientSessionTicket == null) throw new Exception ("Must be logged in to call this method");
+    static PlayFabResult<ValidateIOSReceiptResult> privateValidateIOSReceiptAsync(final PlayFabInstanceAPI instance, final ValidateIOSReceiptRequest request) throws Exception {
+        final PlayFabApiContext context = PlayFabInstanceAPI.contextOf(instance);
+        if (context.getClientSessionTicket() == null) throw new Exception ("Must be logged in to call this method");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Client/ValidateIOSReceipt"), request, "X-Authorization", PlayFabSettings.ClientSessionTicket);
+        FutureTask<Object> task = PlayFabHTTP.doPost(context.getURL("/Client/ValidateIOSReceipt"), request, "X-Authorization", context.getClientSessionTicket(), ValidateIOSReceiptResult.class);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -10277,9 +10119,7 @@ public class PlayFabClientAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
-
-        PlayFabJsonSuccess<ValidateIOSReceiptResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<ValidateIOSReceiptResult>>(){}.getType());
+        PlayFabJsonSuccess<ValidateIOSReceiptResult> resultData = (PlayFabJsonSuccess<ValidateIOSReceiptResult>) httpResult;
         ValidateIOSReceiptResult result = resultData.data;
 
         PlayFabResult<ValidateIOSReceiptResult> pfResult = new PlayFabResult<ValidateIOSReceiptResult>();
@@ -10297,7 +10137,7 @@ public class PlayFabClientAPI {
     public static FutureTask<PlayFabResult<ValidateWindowsReceiptResult>> ValidateWindowsStoreReceiptAsync(final ValidateWindowsReceiptRequest request) {
         return new FutureTask(new Callable<PlayFabResult<ValidateWindowsReceiptResult>>() {
             public PlayFabResult<ValidateWindowsReceiptResult> call() throws Exception {
-                return privateValidateWindowsStoreReceiptAsync(request);
+                return privateValidateWindowsStoreReceiptAsync(null, request);
             }
         });
     }
@@ -10312,7 +10152,7 @@ public class PlayFabClientAPI {
     public static PlayFabResult<ValidateWindowsReceiptResult> ValidateWindowsStoreReceipt(final ValidateWindowsReceiptRequest request) {
         FutureTask<PlayFabResult<ValidateWindowsReceiptResult>> task = new FutureTask(new Callable<PlayFabResult<ValidateWindowsReceiptResult>>() {
             public PlayFabResult<ValidateWindowsReceiptResult> call() throws Exception {
-                return privateValidateWindowsStoreReceiptAsync(request);
+                return privateValidateWindowsStoreReceiptAsync(null, request);
             }
         });
         try {
@@ -10330,10 +10170,11 @@ public class PlayFabClientAPI {
      * purchased catalog item
      */
     @SuppressWarnings("unchecked")
-    private static PlayFabResult<ValidateWindowsReceiptResult> privateValidateWindowsStoreReceiptAsync(final ValidateWindowsReceiptRequest request) throws Exception {
-        if (PlayFabSettings.ClientSessionTicket == null) throw new Exception ("Must be logged in to call this method");
+    static PlayFabResult<ValidateWindowsReceiptResult> privateValidateWindowsStoreReceiptAsync(final PlayFabInstanceAPI instance, final ValidateWindowsReceiptRequest request) throws Exception {
+        final PlayFabApiContext context = PlayFabInstanceAPI.contextOf(instance);
+        if (context.getClientSessionTicket() == null) throw new Exception ("Must be logged in to call this method");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Client/ValidateWindowsStoreReceipt"), request, "X-Authorization", PlayFabSettings.ClientSessionTicket);
+        FutureTask<Object> task = PlayFabHTTP.doPost(context.getURL("/Client/ValidateWindowsStoreReceipt"), request, "X-Authorization", context.getClientSessionTicket(), ValidateWindowsReceiptResult.class);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -10344,9 +10185,7 @@ public class PlayFabClientAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
-
-        PlayFabJsonSuccess<ValidateWindowsReceiptResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<ValidateWindowsReceiptResult>>(){}.getType());
+        PlayFabJsonSuccess<ValidateWindowsReceiptResult> resultData = (PlayFabJsonSuccess<ValidateWindowsReceiptResult>) httpResult;
         ValidateWindowsReceiptResult result = resultData.data;
 
         PlayFabResult<ValidateWindowsReceiptResult> pfResult = new PlayFabResult<ValidateWindowsReceiptResult>();
@@ -10363,7 +10202,7 @@ public class PlayFabClientAPI {
     public static FutureTask<PlayFabResult<WriteEventResponse>> WriteCharacterEventAsync(final WriteClientCharacterEventRequest request) {
         return new FutureTask(new Callable<PlayFabResult<WriteEventResponse>>() {
             public PlayFabResult<WriteEventResponse> call() throws Exception {
-                return privateWriteCharacterEventAsync(request);
+                return privateWriteCharacterEventAsync(null, request);
             }
         });
     }
@@ -10377,7 +10216,7 @@ public class PlayFabClientAPI {
     public static PlayFabResult<WriteEventResponse> WriteCharacterEvent(final WriteClientCharacterEventRequest request) {
         FutureTask<PlayFabResult<WriteEventResponse>> task = new FutureTask(new Callable<PlayFabResult<WriteEventResponse>>() {
             public PlayFabResult<WriteEventResponse> call() throws Exception {
-                return privateWriteCharacterEventAsync(request);
+                return privateWriteCharacterEventAsync(null, request);
             }
         });
         try {
@@ -10392,10 +10231,14 @@ public class PlayFabClientAPI {
 
     /** Writes a character-based event into PlayStream. */
     @SuppressWarnings("unchecked")
-    private static PlayFabResult<WriteEventResponse> privateWriteCharacterEventAsync(final WriteClientCharacterEventRequest request) throws Exception {
-        if (PlayFabSettings.ClientSessionTicket == null) throw new Exception ("Must be logged in to call this method");
+    static PlayFabResult<WriteEventResponse> privateWriteCharacterEventAsync(final PlayFabInstanceAPI instance, final WriteClientCharacterEventRequest request) throws Exception {
+        final PlayFabApiContext context = PlayFabInstanceAPI.contextOf(instance);
+        PlayFabFuture<PlayFabResult<WriteEventResponse>> routed = instance == null ? routeEvent(PlayFabClassicEventRouter.EventKind.Character, request.EventName, null, request.CharacterId, request.Body, request.CustomTags, request.Timestamp) : null;
+        if (routed != null) return awaitRoutedEvent(routed);
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Client/WriteCharacterEvent"), request, "X-Authorization", PlayFabSettings.ClientSessionTicket);
+        if (context.getClientSessionTicket() == null) throw new Exception ("Must be logged in to call this method");
+
+        FutureTask<Object> task = PlayFabHTTP.doPost(context.getURL("/Client/WriteCharacterEvent"), request, "X-Authorization", context.getClientSessionTicket(), WriteEventResponse.class);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -10406,9 +10249,7 @@ public class PlayFabClientAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
-
-        PlayFabJsonSuccess<WriteEventResponse> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<WriteEventResponse>>(){}.getType());
+        PlayFabJsonSuccess<WriteEventResponse> resultData = (PlayFabJsonSuccess<WriteEventResponse>) httpResult;
         WriteEventResponse result = resultData.data;
 
         PlayFabResult<WriteEventResponse> pfResult = new PlayFabResult<WriteEventResponse>();
@@ -10425,7 +10266,7 @@ public class PlayFabClientAPI {
     public static FutureTask<PlayFabResult<WriteEventResponse>> WritePlayerEventAsync(final WriteClientPlayerEventRequest request) {
         return new FutureTask(new Callable<PlayFabResult<WriteEventResponse>>() {
             public PlayFabResult<WriteEventResponse> call() throws Exception {
-                return privateWritePlayerEventAsync(request);
+                return privateWritePlayerEventAsync(null, request);
             }
         });
     }
@@ -10439,7 +10280,7 @@ public class PlayFabClientAPI {
     public static PlayFabResult<WriteEventResponse> WritePlayerEvent(final WriteClientPlayerEventRequest request) {
         FutureTask<PlayFabResult<WriteEventResponse>> task = new FutureTask(new Callable<PlayFabResult<WriteEventResponse>>() {
             public PlayFabResult<WriteEventResponse> call() throws Exception {
-                return privateWritePlayerEventAsync(request);
+                return privateWritePlayerEventAsync(null, request);
             }
         });
         try {
@@ -10454,10 +10295,14 @@ public class PlayFabClientAPI {
 
     /** Writes a player-based event into PlayStream. */
     @SuppressWarnings("unchecked")
-    private static PlayFabResult<WriteEventResponse> privateWritePlayerEventAsync(final WriteClientPlayerEventRequest request) throws Exception {
-        if (PlayFabSettings.ClientSessionTicket == null) throw new Exception ("Must be logged in to call this method");
+    static PlayFabResult<WriteEventResponse> privateWritePlayerEventAsync(final PlayFabInstanceAPI instance, final WriteClientPlayerEventRequest request) throws Exception {
+        final PlayFabApiContext context = PlayFabInstanceAPI.contextOf(instance);
+        PlayFabFuture<PlayFabResult<WriteEventResponse>> routed = instance == null ? routeEvent(PlayFabClassicEventRouter.EventKind.Player, request.EventName, null, null, request.Body, request.CustomTags, request.Timestamp) : null;
+        if (routed != null) return awaitRoutedEvent(routed);
+
+        if (context.getClientSessionTicket() == null) throw new Exception ("Must be logged in to call this method");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Client/WritePlayerEvent"), request, "X-Authorization", PlayFabSettings.ClientSessionTicket);
+        FutureTask<Object> task = PlayFabHTTP.doPost(context.getURL("/Client/WritePlayerEvent"), request, "X-Authorization", context.getClientSessionTicket(), WriteEventResponse.class);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -10468,9 +10313,7 @@ public class PlayFabClientAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
-
-        PlayFabJsonSuccess<WriteEventResponse> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<WriteEventResponse>>(){}.getType());
+        PlayFabJsonSuccess<WriteEventResponse> resultData = (PlayFabJsonSuccess<WriteEventResponse>) httpResult;
         WriteEventResponse result = resultData.data;
 
         PlayFabResult<WriteEventResponse> pfResult = new PlayFabResult<WriteEventResponse>();
@@ -10487,7 +10330,7 @@ public class PlayFabClientAPI {
     public static FutureTask<PlayFabResult<WriteEventResponse>> WriteTitleEventAsync(final WriteTitleEventRequest request) {
         return new FutureTask(new Callable<PlayFabResult<WriteEventResponse>>() {
             public PlayFabResult<WriteEventResponse> call() throws Exception {
-                return privateWriteTitleEventAsync(request);
+                return privateWriteTitleEventAsync(null, request);
             }
         });
     }
@@ -10501,7 +10344,7 @@ public class PlayFabClientAPI {
     public static PlayFabResult<WriteEventResponse> WriteTitleEvent(final WriteTitleEventRequest request) {
         FutureTask<PlayFabResult<WriteEventResponse>> task = new FutureTask(new Callable<PlayFabResult<WriteEventResponse>>() {
             public PlayFabResult<WriteEventResponse> call() throws Exception {
-                return privateWriteTitleEventAsync(request);
+                return privateWriteTitleEventAsync(null, request);
             }
         });
         try {
@@ -10516,10 +10359,14 @@ public class PlayFabClientAPI {
 
     /** Writes a title-based event into PlayStream. */
     @SuppressWarnings("unchecked")
-    private static PlayFabResult<WriteEventResponse> privateWriteTitleEventAsync(final WriteTitleEventRequest request) throws Exception {
-        if (PlayFabSettings.ClientSessionTicket == null) throw new Exception ("Must be logged in to call this method");
+    static PlayFabResult<WriteEventResponse> privateWriteTitleEventAsync(final PlayFabInstanceAPI instance, final WriteTitleEventRequest request) throws Exception {
+        final PlayFabApiContext context = PlayFabInstanceAPI.contextOf(instance);
+        PlayFabFuture<PlayFabResult<WriteEventResponse>> routed = instance == null ? routeEvent(PlayFabClassicEventRouter.EventKind.Title, request.EventName, null, null, request.Body, request.CustomTags, request.Timestamp) : null;
+        if (routed != null) return awaitRoutedEvent(routed);
+
+        if (context.getClientSessionTicket() == null) throw new Exception ("Must be logged in to call this method");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Client/WriteTitleEvent"), request, "X-Authorization", PlayFabSettings.ClientSessionTicket);
+        FutureTask<Object> task = PlayFabHTTP.doPost(context.getURL("/Client/WriteTitleEvent"), request, "X-Authorization", context.getClientSessionTicket(), WriteEventResponse.class);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -10530,9 +10377,7 @@ public class PlayFabClientAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
-
-        PlayFabJsonSuccess<WriteEventResponse> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<WriteEventResponse>>(){}.getType());
+        PlayFabJsonSuccess<WriteEventResponse> resultData = (PlayFabJsonSuccess<WriteEventResponse>) httpResult;
         WriteEventResponse result = resultData.data;
 
         PlayFabResult<WriteEventResponse> pfResult = new PlayFabResult<WriteEventResponse>();
@@ -10540,4 +10385,2270 @@ public class PlayFabClientAPI {
         return pfResult;
     }
 
+    /**
+     * Hands a classic event to PlayFabSettings.ClassicEventRouter, if one is set
+     * @return a future for the event's result, or null to send it with the classic call
+     */
+    private static PlayFabFuture<PlayFabResult<WriteEventResponse>> routeEvent(PlayFabClassicEventRouter.EventKind kind, String eventName, String playFabId, String characterId, Map<String,Object> body, Map<String,String> customTags, Date timestamp) {
+        PlayFabClassicEventRouter router = PlayFabSettings.ClassicEventRouter;
+        PlayFabFuture<PlayFabResult<String>> eventId = router != null ? router.route(kind, eventName, playFabId, characterId, body, customTags, timestamp) : null;
+        if (eventId == null)
+            return null;
+        return eventId.then(new PlayFabFuture.Transform<PlayFabResult<String>, PlayFabResult<WriteEventResponse>>() {
+            public PlayFabResult<WriteEventResponse> apply(PlayFabResult<String> value) {
+                PlayFabResult<WriteEventResponse> result = new PlayFabResult<WriteEventResponse>();
+                if (value.Error != null) {
+                    if (PlayFabSettings.GlobalErrorHandler != null)
+                        PlayFabSettings.GlobalErrorHandler.callback(value.Error);
+                    result.Error = value.Error;
+                } else {
+                    result.Result = new WriteEventResponse();
+                    result.Result.EventId = value.Result;
+                }
+                return result;
+            }
+        });
+    }
+
+    /**
+     * @return the routed event's result once its batch is sent, or at once with no EventId if
+     * PlayFabSettings.ClassicEventWaitForBatch is false, leaving a failure to PlayFabSettings.GlobalErrorHandler
+     */
+    private static PlayFabResult<WriteEventResponse> awaitRoutedEvent(PlayFabFuture<PlayFabResult<WriteEventResponse>> routed) throws Exception {
+        if (PlayFabSettings.ClassicEventWaitForBatch)
+            return routed.get();
+        PlayFabResult<WriteEventResponse> queued = new PlayFabResult<WriteEventResponse>();
+        queued.Result = new WriteEventResponse();
+        return queued;
+    }
+
+    /**
+     * @return Non-blocking versions of every PlayFabClientAPI call, started on PlayFabSettings.AsyncExecutor
+     */
+    public static Async async() {
+        return async;
+    }
+
+    /**
+     * Non-blocking versions of the PlayFabClientAPI calls. Each call is already running when its PlayFabFuture is returned.
+     */
+    public static class Async {
+        private Async() {
+        }
+
+        /**
+         * Accepts an open trade (one that has not yet been accepted or cancelled), if the locally signed-in player is in the
+         * allowed player list for the trade, or it is open to all players. If the call is successful, the offered and accepted
+         * items will be swapped between the two players' inventories.
+         * @param request AcceptTradeRequest
+         * @return Running future that will complete with AcceptTradeResponse
+         */
+        public PlayFabFuture<PlayFabResult<AcceptTradeResponse>> AcceptTrade(final AcceptTradeRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<AcceptTradeResponse>>() {
+                public PlayFabResult<AcceptTradeResponse> call() throws Exception {
+                    return privateAcceptTradeAsync(null, request);
+                }
+            });
+        }
+
+        /**
+         * Adds the PlayFab user, based upon a match against a supplied unique identifier, to the friend list of the local user. At
+         * least one of FriendPlayFabId,FriendUsername,FriendEmail, or FriendTitleDisplayName should be initialized.
+         * @param request AddFriendRequest
+         * @return Running future that will complete with AddFriendResult
+         */
+        public PlayFabFuture<PlayFabResult<AddFriendResult>> AddFriend(final AddFriendRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<AddFriendResult>>() {
+                public PlayFabResult<AddFriendResult> call() throws Exception {
+                    return privateAddFriendAsync(null, request);
+                }
+            });
+        }
+
+        /**
+         * Adds the specified generic service identifier to the player's PlayFab account. This is designed to allow for a PlayFab
+         * ID lookup of any arbitrary service identifier a title wants to add. This identifier should never be used as
+         * authentication credentials, as the intent is that it is easily accessible by other players.
+         * @param request AddGenericIDRequest
+         * @return Running future that will complete with AddGenericIDResult
+         */
+        public PlayFabFuture<PlayFabResult<AddGenericIDResult>> AddGenericID(final AddGenericIDRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<AddGenericIDResult>>() {
+                public PlayFabResult<AddGenericIDResult> call() throws Exception {
+                    return privateAddGenericIDAsync(null, request);
+                }
+            });
+        }
+
+        /**
+         * Adds or updates a contact email to the player's profile.
+         * @param request AddOrUpdateContactEmailRequest
+         * @return Running future that will complete with AddOrUpdateContactEmailResult
+         */
+        public PlayFabFuture<PlayFabResult<AddOrUpdateContactEmailResult>> AddOrUpdateContactEmail(final AddOrUpdateContactEmailRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<AddOrUpdateContactEmailResult>>() {
+                public PlayFabResult<AddOrUpdateContactEmailResult> call() throws Exception {
+                    return privateAddOrUpdateContactEmailAsync(null, request);
+                }
+            });
+        }
+
+        /**
+         * Adds users to the set of those able to update both the shared data, as well as the set of users in the group. Only users
+         * in the group can add new members. Shared Groups are designed for sharing data between a very small number of players,
+         * please see our guide: https://docs.microsoft.com/gaming/playfab/features/social/groups/using-shared-group-data
+         * @param request AddSharedGroupMembersRequest
+         * @return Running future that will complete with AddSharedGroupMembersResult
+         */
+        public PlayFabFuture<PlayFabResult<AddSharedGroupMembersResult>> AddSharedGroupMembers(final AddSharedGroupMembersRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<AddSharedGroupMembersResult>>() {
+                public PlayFabResult<AddSharedGroupMembersResult> call() throws Exception {
+                    return privateAddSharedGroupMembersAsync(null, request);
+                }
+            });
+        }
+
+        /**
+         * Adds playfab username/password auth to an existing account created via an anonymous auth method, e.g. automatic device
+         * ID login.
+         * @param request AddUsernamePasswordRequest
+         * @return Running future that will complete with AddUsernamePasswordResult
+         */
+        public PlayFabFuture<PlayFabResult<AddUsernamePasswordResult>> AddUsernamePassword(final AddUsernamePasswordRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<AddUsernamePasswordResult>>() {
+                public PlayFabResult<AddUsernamePasswordResult> call() throws Exception {
+                    return privateAddUsernamePasswordAsync(null, request);
+                }
+            });
+        }
+
+        /**
+         * Increments the user's balance of the specified virtual currency by the stated amount
+         * @param request AddUserVirtualCurrencyRequest
+         * @return Running future that will complete with ModifyUserVirtualCurrencyResult
+         */
+        public PlayFabFuture<PlayFabResult<ModifyUserVirtualCurrencyResult>> AddUserVirtualCurrency(final AddUserVirtualCurrencyRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<ModifyUserVirtualCurrencyResult>>() {
+                public PlayFabResult<ModifyUserVirtualCurrencyResult> call() throws Exception {
+                    return privateAddUserVirtualCurrencyAsync(null, request);
+                }
+            });
+        }
+
+        /**
+         * Registers the Android device to receive push notifications
+         * @param request AndroidDevicePushNotificationRegistrationRequest
+         * @return Running future that will complete with AndroidDevicePushNotificationRegistrationResult
+         */
+        public PlayFabFuture<PlayFabResult<AndroidDevicePushNotificationRegistrationResult>> AndroidDevicePushNotificationRegistration(final AndroidDevicePushNotificationRegistrationRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<AndroidDevicePushNotificationRegistrationResult>>() {
+                public PlayFabResult<AndroidDevicePushNotificationRegistrationResult> call() throws Exception {
+                    return privateAndroidDevicePushNotificationRegistrationAsync(null, request);
+                }
+            });
+        }
+
+        /**
+         * Attributes an install for advertisment.
+         * @param request AttributeInstallRequest
+         * @return Running future that will complete with AttributeInstallResult
+         */
+        public PlayFabFuture<PlayFabResult<AttributeInstallResult>> AttributeInstall(final AttributeInstallRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<AttributeInstallResult>>() {
+                public PlayFabResult<AttributeInstallResult> call() throws Exception {
+                    return privateAttributeInstallAsync(null, request);
+                }
+            });
+        }
+
+        /**
+         * Cancels an open trade (one that has not yet been accepted or cancelled). Note that only the player who created the trade
+         * can cancel it via this API call, to prevent griefing of the trade system (cancelling trades in order to prevent other
+         * players from accepting them, for trades that can be claimed by more than one player).
+         * @param request CancelTradeRequest
+         * @return Running future that will complete with CancelTradeResponse
+         */
+        public PlayFabFuture<PlayFabResult<CancelTradeResponse>> CancelTrade(final CancelTradeRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<CancelTradeResponse>>() {
+                public PlayFabResult<CancelTradeResponse> call() throws Exception {
+                    return privateCancelTradeAsync(null, request);
+                }
+            });
+        }
+
+        /**
+         * Confirms with the payment provider that the purchase was approved (if applicable) and adjusts inventory and virtual
+         * currency balances as appropriate
+         * @param request ConfirmPurchaseRequest
+         * @return Running future that will complete with ConfirmPurchaseResult
+         */
+        public PlayFabFuture<PlayFabResult<ConfirmPurchaseResult>> ConfirmPurchase(final ConfirmPurchaseRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<ConfirmPurchaseResult>>() {
+                public PlayFabResult<ConfirmPurchaseResult> call() throws Exception {
+                    return privateConfirmPurchaseAsync(null, request);
+                }
+            });
+        }
+
+        /**
+         * Consume uses of a consumable item. When all uses are consumed, it will be removed from the player's inventory.
+         * @param request ConsumeItemRequest
+         * @return Running future that will complete with ConsumeItemResult
+         */
+        public PlayFabFuture<PlayFabResult<ConsumeItemResult>> ConsumeItem(final ConsumeItemRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<ConsumeItemResult>>() {
+                public PlayFabResult<ConsumeItemResult> call() throws Exception {
+                    return privateConsumeItemAsync(null, request);
+                }
+            });
+        }
+
+        /**
+         * Grants the player's current entitlements from Microsoft Store's Collection API
+         * @param request ConsumeMicrosoftStoreEntitlementsRequest
+         * @return Running future that will complete with ConsumeMicrosoftStoreEntitlementsResponse
+         */
+        public PlayFabFuture<PlayFabResult<ConsumeMicrosoftStoreEntitlementsResponse>> ConsumeMicrosoftStoreEntitlements(final ConsumeMicrosoftStoreEntitlementsRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<ConsumeMicrosoftStoreEntitlementsResponse>>() {
+                public PlayFabResult<ConsumeMicrosoftStoreEntitlementsResponse> call() throws Exception {
+                    return privateConsumeMicrosoftStoreEntitlementsAsync(null, request);
+                }
+            });
+        }
+
+        /**
+         * Checks for any new PS5 entitlements. If any are found, they are consumed (if they're consumables) and added as PlayFab
+         * items
+         * @param request ConsumePS5EntitlementsRequest
+         * @return Running future that will complete with ConsumePS5EntitlementsResult
+         */
+        public PlayFabFuture<PlayFabResult<ConsumePS5EntitlementsResult>> ConsumePS5Entitlements(final ConsumePS5EntitlementsRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<ConsumePS5EntitlementsResult>>() {
+                public PlayFabResult<ConsumePS5EntitlementsResult> call() throws Exception {
+                    return privateConsumePS5EntitlementsAsync(null, request);
+                }
+            });
+        }
+
+        /**
+         * Checks for any new consumable entitlements. If any are found, they are consumed and added as PlayFab items
+         * @param request ConsumePSNEntitlementsRequest
+         * @return Running future that will complete with ConsumePSNEntitlementsResult
+         */
+        public PlayFabFuture<PlayFabResult<ConsumePSNEntitlementsResult>> ConsumePSNEntitlements(final ConsumePSNEntitlementsRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<ConsumePSNEntitlementsResult>>() {
+                public PlayFabResult<ConsumePSNEntitlementsResult> call() throws Exception {
+                    return privateConsumePSNEntitlementsAsync(null, request);
+                }
+            });
+        }
+
+        /**
+         * Grants the player's current entitlements from Xbox Live, consuming all availble items in Xbox and granting them to the
+         * player's PlayFab inventory. This call is idempotent and will not grant previously granted items to the player.
+         * @param request ConsumeXboxEntitlementsRequest
+         * @return Running future that will complete with ConsumeXboxEntitlementsResult
+         */
+        public PlayFabFuture<PlayFabResult<ConsumeXboxEntitlementsResult>> ConsumeXboxEntitlements(final ConsumeXboxEntitlementsRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<ConsumeXboxEntitlementsResult>>() {
+                public PlayFabResult<ConsumeXboxEntitlementsResult> call() throws Exception {
+                    return privateConsumeXboxEntitlementsAsync(null, request);
+                }
+            });
+        }
+
+        /**
+         * Requests the creation of a shared group object, containing key/value pairs which may be updated by all members of the
+         * group. Upon creation, the current user will be the only member of the group. Shared Groups are designed for sharing data
+         * between a very small number of players, please see our guide:
+         * https://docs.microsoft.com/gaming/playfab/features/social/groups/using-shared-group-data
+         * @param request CreateSharedGroupRequest
+         * @return Running future that will complete with CreateSharedGroupResult
+         */
+        public PlayFabFuture<PlayFabResult<CreateSharedGroupResult>> CreateSharedGroup(final CreateSharedGroupRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<CreateSharedGroupResult>>() {
+                public PlayFabResult<CreateSharedGroupResult> call() throws Exception {
+                    return privateCreateSharedGroupAsync(null, request);
+                }
+            });
+        }
+
+        /**
+         * Executes a CloudScript function, with the 'currentPlayerId' set to the PlayFab ID of the authenticated player.
+         * @param request ExecuteCloudScriptRequest
+         * @return Running future that will complete with ExecuteCloudScriptResult
+         */
+        public PlayFabFuture<PlayFabResult<ExecuteCloudScriptResult>> ExecuteCloudScript(final ExecuteCloudScriptRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<ExecuteCloudScriptResult>>() {
+                public PlayFabResult<ExecuteCloudScriptResult> call() throws Exception {
+                    return privateExecuteCloudScriptAsync(null, request);
+                }
+            });
+        }
+
+        /**
+         * Retrieves the user's PlayFab account details
+         * @param request GetAccountInfoRequest
+         * @return Running future that will complete with GetAccountInfoResult
+         */
+        public PlayFabFuture<PlayFabResult<GetAccountInfoResult>> GetAccountInfo(final GetAccountInfoRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<GetAccountInfoResult>>() {
+                public PlayFabResult<GetAccountInfoResult> call() throws Exception {
+                    return privateGetAccountInfoAsync(null, request);
+                }
+            });
+        }
+
+        /**
+         * Returns a list of ad placements and a reward for each
+         * @param request GetAdPlacementsRequest
+         * @return Running future that will complete with GetAdPlacementsResult
+         */
+        public PlayFabFuture<PlayFabResult<GetAdPlacementsResult>> GetAdPlacements(final GetAdPlacementsRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<GetAdPlacementsResult>>() {
+                public PlayFabResult<GetAdPlacementsResult> call() throws Exception {
+                    return privateGetAdPlacementsAsync(null, request);
+                }
+            });
+        }
+
+        /**
+         * Lists all of the characters that belong to a specific user. CharacterIds are not globally unique; characterId must be
+         * evaluated with the parent PlayFabId to guarantee uniqueness.
+         * @param request ListUsersCharactersRequest
+         * @return Running future that will complete with ListUsersCharactersResult
+         */
+        public PlayFabFuture<PlayFabResult<ListUsersCharactersResult>> GetAllUsersCharacters(final ListUsersCharactersRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<ListUsersCharactersResult>>() {
+                public PlayFabResult<ListUsersCharactersResult> call() throws Exception {
+                    return privateGetAllUsersCharactersAsync(null, request);
+                }
+            });
+        }
+
+        /**
+         * Retrieves the specified version of the title's catalog of virtual goods, including all defined properties
+         * @param request GetCatalogItemsRequest
+         * @return Running future that will complete with GetCatalogItemsResult
+         */
+        public PlayFabFuture<PlayFabResult<GetCatalogItemsResult>> GetCatalogItems(final GetCatalogItemsRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<GetCatalogItemsResult>>() {
+                public PlayFabResult<GetCatalogItemsResult> call() throws Exception {
+                    return privateGetCatalogItemsAsync(null, request);
+                }
+            });
+        }
+
+        /**
+         * Retrieves the title-specific custom data for the character which is readable and writable by the client
+         * @param request GetCharacterDataRequest
+         * @return Running future that will complete with GetCharacterDataResult
+         */
+        public PlayFabFuture<PlayFabResult<GetCharacterDataResult>> GetCharacterData(final GetCharacterDataRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<GetCharacterDataResult>>() {
+                public PlayFabResult<GetCharacterDataResult> call() throws Exception {
+                    return privateGetCharacterDataAsync(null, request);
+                }
+            });
+        }
+
+        /**
+         * Retrieves the specified character's current inventory of virtual goods
+         * @param request GetCharacterInventoryRequest
+         * @return Running future that will complete with GetCharacterInventoryResult
+         */
+        public PlayFabFuture<PlayFabResult<GetCharacterInventoryResult>> GetCharacterInventory(final GetCharacterInventoryRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<GetCharacterInventoryResult>>() {
+                public PlayFabResult<GetCharacterInventoryResult> call() throws Exception {
+                    return privateGetCharacterInventoryAsync(null, request);
+                }
+            });
+        }
+
+        /**
+         * Retrieves a list of ranked characters for the given statistic, starting from the indicated point in the leaderboard
+         * @param request GetCharacterLeaderboardRequest
+         * @return Running future that will complete with GetCharacterLeaderboardResult
+         */
+        public PlayFabFuture<PlayFabResult<GetCharacterLeaderboardResult>> GetCharacterLeaderboard(final GetCharacterLeaderboardRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<GetCharacterLeaderboardResult>>() {
+                public PlayFabResult<GetCharacterLeaderboardResult> call() throws Exception {
+                    return privateGetCharacterLeaderboardAsync(null, request);
+                }
+            });
+        }
+
+        /**
+         * Retrieves the title-specific custom data for the character which can only be read by the client
+         * @param request GetCharacterDataRequest
+         * @return Running future that will complete with GetCharacterDataResult
+         */
+        public PlayFabFuture<PlayFabResult<GetCharacterDataResult>> GetCharacterReadOnlyData(final GetCharacterDataRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<GetCharacterDataResult>>() {
+                public PlayFabResult<GetCharacterDataResult> call() throws Exception {
+                    return privateGetCharacterReadOnlyDataAsync(null, request);
+                }
+            });
+        }
+
+        /**
+         * Retrieves the details of all title-specific statistics for the user
+         * @param request GetCharacterStatisticsRequest
+         * @return Running future that will complete with GetCharacterStatisticsResult
+         */
+        public PlayFabFuture<PlayFabResult<GetCharacterStatisticsResult>> GetCharacterStatistics(final GetCharacterStatisticsRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<GetCharacterStatisticsResult>>() {
+                public PlayFabResult<GetCharacterStatisticsResult> call() throws Exception {
+                    return privateGetCharacterStatisticsAsync(null, request);
+                }
+            });
+        }
+
+        /**
+         * This API retrieves a pre-signed URL for accessing a content file for the title. A subsequent HTTP GET to the returned
+         * URL will attempt to download the content. A HEAD query to the returned URL will attempt to retrieve the metadata of the
+         * content. Note that a successful result does not guarantee the existence of this content - if it has not been uploaded,
+         * the query to retrieve the data will fail. See this post for more information:
+         * https://community.playfab.com/hc/community/posts/205469488-How-to-upload-files-to-PlayFab-s-Content-Service. Also,
+         * please be aware that the Content service is specifically PlayFab's CDN offering, for which standard CDN rates apply.
+         * @param request GetContentDownloadUrlRequest
+         * @return Running future that will complete with GetContentDownloadUrlResult
+         */
+        public PlayFabFuture<PlayFabResult<GetContentDownloadUrlResult>> GetContentDownloadUrl(final GetContentDownloadUrlRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<GetContentDownloadUrlResult>>() {
+                public PlayFabResult<GetContentDownloadUrlResult> call() throws Exception {
+                    return privateGetContentDownloadUrlAsync(null, request);
+                }
+            });
+        }
+
+        /**
+         * Get details about all current running game servers matching the given parameters.
+         * @param request CurrentGamesRequest
+         * @return Running future that will complete with CurrentGamesResult
+         */
+        public PlayFabFuture<PlayFabResult<CurrentGamesResult>> GetCurrentGames(final CurrentGamesRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<CurrentGamesResult>>() {
+                public PlayFabResult<CurrentGamesResult> call() throws Exception {
+                    return privateGetCurrentGamesAsync(null, request);
+                }
+            });
+        }
+
+        /**
+         * Retrieves a list of ranked friends of the current player for the given statistic, starting from the indicated point in
+         * the leaderboard
+         * @param request GetFriendLeaderboardRequest
+         * @return Running future that will complete with GetLeaderboardResult
+         */
+        public PlayFabFuture<PlayFabResult<GetLeaderboardResult>> GetFriendLeaderboard(final GetFriendLeaderboardRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<GetLeaderboardResult>>() {
+                public PlayFabResult<GetLeaderboardResult> call() throws Exception {
+                    return privateGetFriendLeaderboardAsync(null, request);
+                }
+            });
+        }
+
+        /**
+         * Retrieves a list of ranked friends of the current player for the given statistic, centered on the requested PlayFab
+         * user. If PlayFabId is empty or null will return currently logged in user.
+         * @param request GetFriendLeaderboardAroundPlayerRequest
+         * @return Running future that will complete with GetFriendLeaderboardAroundPlayerResult
+         */
+        public PlayFabFuture<PlayFabResult<GetFriendLeaderboardAroundPlayerResult>> GetFriendLeaderboardAroundPlayer(final GetFriendLeaderboardAroundPlayerRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<GetFriendLeaderboardAroundPlayerResult>>() {
+                public PlayFabResult<GetFriendLeaderboardAroundPlayerResult> call() throws Exception {
+                    return privateGetFriendLeaderboardAroundPlayerAsync(null, request);
+                }
+            });
+        }
+
+        /**
+         * Retrieves the current friend list for the local user, constrained to users who have PlayFab accounts. Friends from
+         * linked accounts (Facebook, Steam) are also included. You may optionally exclude some linked services' friends.
+         * @param request GetFriendsListRequest
+         * @return Running future that will complete with GetFriendsListResult
+         */
+        public PlayFabFuture<PlayFabResult<GetFriendsListResult>> GetFriendsList(final GetFriendsListRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<GetFriendsListResult>>() {
+                public PlayFabResult<GetFriendsListResult> call() throws Exception {
+                    return privateGetFriendsListAsync(null, request);
+                }
+            });
+        }
+
+        /**
+         * Get details about the regions hosting game servers matching the given parameters.
+         * @param request GameServerRegionsRequest
+         * @return Running future that will complete with GameServerRegionsResult
+         */
+        public PlayFabFuture<PlayFabResult<GameServerRegionsResult>> GetGameServerRegions(final GameServerRegionsRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<GameServerRegionsResult>>() {
+                public PlayFabResult<GameServerRegionsResult> call() throws Exception {
+                    return privateGetGameServerRegionsAsync(null, request);
+                }
+            });
+        }
+
+        /**
+         * Retrieves a list of ranked users for the given statistic, starting from the indicated point in the leaderboard
+         * @param request GetLeaderboardRequest
+         * @return Running future that will complete with GetLeaderboardResult
+         */
+        public PlayFabFuture<PlayFabResult<GetLeaderboardResult>> GetLeaderboard(final GetLeaderboardRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<GetLeaderboardResult>>() {
+                public PlayFabResult<GetLeaderboardResult> call() throws Exception {
+                    return privateGetLeaderboardAsync(null, request);
+                }
+            });
+        }
+
+        /**
+         * Retrieves a list of ranked characters for the given statistic, centered on the requested Character ID
+         * @param request GetLeaderboardAroundCharacterRequest
+         * @return Running future that will complete with GetLeaderboardAroundCharacterResult
+         */
+        public PlayFabFuture<PlayFabResult<GetLeaderboardAroundCharacterResult>> GetLeaderboardAroundCharacter(final GetLeaderboardAroundCharacterRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<GetLeaderboardAroundCharacterResult>>() {
+                public PlayFabResult<GetLeaderboardAroundCharacterResult> call() throws Exception {
+                    return privateGetLeaderboardAroundCharacterAsync(null, request);
+                }
+            });
+        }
+
+        /**
+         * Retrieves a list of ranked users for the given statistic, centered on the requested player. If PlayFabId is empty or
+         * null will return currently logged in user.
+         * @param request GetLeaderboardAroundPlayerRequest
+         * @return Running future that will complete with GetLeaderboardAroundPlayerResult
+         */
+        public PlayFabFuture<PlayFabResult<GetLeaderboardAroundPlayerResult>> GetLeaderboardAroundPlayer(final GetLeaderboardAroundPlayerRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<GetLeaderboardAroundPlayerResult>>() {
+                public PlayFabResult<GetLeaderboardAroundPlayerResult> call() throws Exception {
+                    return privateGetLeaderboardAroundPlayerAsync(null, request);
+                }
+            });
+        }
+
+        /**
+         * Retrieves a list of all of the user's characters for the given statistic.
+         * @param request GetLeaderboardForUsersCharactersRequest
+         * @return Running future that will complete with GetLeaderboardForUsersCharactersResult
+         */
+        public PlayFabFuture<PlayFabResult<GetLeaderboardForUsersCharactersResult>> GetLeaderboardForUserCharacters(final GetLeaderboardForUsersCharactersRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<GetLeaderboardForUsersCharactersResult>>() {
+                public PlayFabResult<GetLeaderboardForUsersCharactersResult> call() throws Exception {
+                    return privateGetLeaderboardForUserCharactersAsync(null, request);
+                }
+            });
+        }
+
+        /**
+         * For payments flows where the provider requires playfab (the fulfiller) to initiate the transaction, but the client
+         * completes the rest of the flow. In the Xsolla case, the token returned here will be passed to Xsolla by the client to
+         * create a cart. Poll GetPurchase using the returned OrderId once you've completed the payment.
+         * @param request GetPaymentTokenRequest
+         * @return Running future that will complete with GetPaymentTokenResult
+         */
+        public PlayFabFuture<PlayFabResult<GetPaymentTokenResult>> GetPaymentToken(final GetPaymentTokenRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<GetPaymentTokenResult>>() {
+                public PlayFabResult<GetPaymentTokenResult> call() throws Exception {
+                    return privateGetPaymentTokenAsync(null, request);
+                }
+            });
+        }
+
+        /**
+         * Gets a Photon custom authentication token that can be used to securely join the player into a Photon room. See
+         * https://docs.microsoft.com/gaming/playfab/features/multiplayer/photon/quickstart for more details.
+         * @param request GetPhotonAuthenticationTokenRequest
+         * @return Running future that will complete with GetPhotonAuthenticationTokenResult
+         */
+        public PlayFabFuture<PlayFabResult<GetPhotonAuthenticationTokenResult>> GetPhotonAuthenticationToken(final GetPhotonAuthenticationTokenRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<GetPhotonAuthenticationTokenResult>>() {
+                public PlayFabResult<GetPhotonAuthenticationTokenResult> call() throws Exception {
+                    return privateGetPhotonAuthenticationTokenAsync(null, request);
+                }
+            });
+        }
+
+        /**
+         * Retrieves all of the user's different kinds of info.
+         * @param request GetPlayerCombinedInfoRequest
+         * @return Running future that will complete with GetPlayerCombinedInfoResult
+         */
+        public PlayFabFuture<PlayFabResult<GetPlayerCombinedInfoResult>> GetPlayerCombinedInfo(final GetPlayerCombinedInfoRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<GetPlayerCombinedInfoResult>>() {
+                public PlayFabResult<GetPlayerCombinedInfoResult> call() throws Exception {
+                    return privateGetPlayerCombinedInfoAsync(null, request);
+                }
+            });
+        }
+
+        /**
+         * Retrieves the player's profile
+         * @param request GetPlayerProfileRequest
+         * @return Running future that will complete with GetPlayerProfileResult
+         */
+        public PlayFabFuture<PlayFabResult<GetPlayerProfileResult>> GetPlayerProfile(final GetPlayerProfileRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<GetPlayerProfileResult>>() {
+                public PlayFabResult<GetPlayerProfileResult> call() throws Exception {
+                    return privateGetPlayerProfileAsync(null, request);
+                }
+            });
+        }
+
+        /**
+         * List all segments that a player currently belongs to at this moment in time.
+         * @param request GetPlayerSegmentsRequest
+         * @return Running future that will complete with GetPlayerSegmentsResult
+         */
+        public PlayFabFuture<PlayFabResult<GetPlayerSegmentsResult>> GetPlayerSegments(final GetPlayerSegmentsRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<GetPlayerSegmentsResult>>() {
+                public PlayFabResult<GetPlayerSegmentsResult> call() throws Exception {
+                    return privateGetPlayerSegmentsAsync(null, request);
+                }
+            });
+        }
+
+        /**
+         * Retrieves the indicated statistics (current version and values for all statistics, if none are specified), for the local
+         * player.
+         * @param request GetPlayerStatisticsRequest
+         * @return Running future that will complete with GetPlayerStatisticsResult
+         */
+        public PlayFabFuture<PlayFabResult<GetPlayerStatisticsResult>> GetPlayerStatistics(final GetPlayerStatisticsRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<GetPlayerStatisticsResult>>() {
+                public PlayFabResult<GetPlayerStatisticsResult> call() throws Exception {
+                    return privateGetPlayerStatisticsAsync(null, request);
+                }
+            });
+        }
+
+        /**
+         * Retrieves the information on the available versions of the specified statistic.
+         * @param request GetPlayerStatisticVersionsRequest
+         * @return Running future that will complete with GetPlayerStatisticVersionsResult
+         */
+        public PlayFabFuture<PlayFabResult<GetPlayerStatisticVersionsResult>> GetPlayerStatisticVersions(final GetPlayerStatisticVersionsRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<GetPlayerStatisticVersionsResult>>() {
+                public PlayFabResult<GetPlayerStatisticVersionsResult> call() throws Exception {
+                    return privateGetPlayerStatisticVersionsAsync(null, request);
+                }
+            });
+        }
+
+        /**
+         * Get all tags with a given Namespace (optional) from a player profile.
+         * @param request GetPlayerTagsRequest
+         * @return Running future that will complete with GetPlayerTagsResult
+         */
+        public PlayFabFuture<PlayFabResult<GetPlayerTagsResult>> GetPlayerTags(final GetPlayerTagsRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<GetPlayerTagsResult>>() {
+                public PlayFabResult<GetPlayerTagsResult> call() throws Exception {
+                    return privateGetPlayerTagsAsync(null, request);
+                }
+            });
+        }
+
+        /**
+         * Gets all trades the player has either opened or accepted, optionally filtered by trade status.
+         * @param request GetPlayerTradesRequest
+         * @return Running future that will complete with GetPlayerTradesResponse
+         */
+        public PlayFabFuture<PlayFabResult<GetPlayerTradesResponse>> GetPlayerTrades(final GetPlayerTradesRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<GetPlayerTradesResponse>>() {
+                public PlayFabResult<GetPlayerTradesResponse> call() throws Exception {
+                    return privateGetPlayerTradesAsync(null, request);
+                }
+            });
+        }
+
+        /**
+         * Retrieves the unique PlayFab identifiers for the given set of Facebook identifiers.
+         * @param request GetPlayFabIDsFromFacebookIDsRequest
+         * @return Running future that will complete with GetPlayFabIDsFromFacebookIDsResult
+         */
+        public PlayFabFuture<PlayFabResult<GetPlayFabIDsFromFacebookIDsResult>> GetPlayFabIDsFromFacebookIDs(final GetPlayFabIDsFromFacebookIDsRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<GetPlayFabIDsFromFacebookIDsResult>>() {
+                public PlayFabResult<GetPlayFabIDsFromFacebookIDsResult> call() throws Exception {
+                    return privateGetPlayFabIDsFromFacebookIDsAsync(null, request);
+                }
+            });
+        }
+
+        /**
+         * Retrieves the unique PlayFab identifiers for the given set of Facebook Instant Game identifiers.
+         * @param request GetPlayFabIDsFromFacebookInstantGamesIdsRequest
+         * @return Running future that will complete with GetPlayFabIDsFromFacebookInstantGamesIdsResult
+         */
+        public PlayFabFuture<PlayFabResult<GetPlayFabIDsFromFacebookInstantGamesIdsResult>> GetPlayFabIDsFromFacebookInstantGamesIds(final GetPlayFabIDsFromFacebookInstantGamesIdsRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<GetPlayFabIDsFromFacebookInstantGamesIdsResult>>() {
+                public PlayFabResult<GetPlayFabIDsFromFacebookInstantGamesIdsResult> call() throws Exception {
+                    return privateGetPlayFabIDsFromFacebookInstantGamesIdsAsync(null, request);
+                }
+            });
+        }
+
+        /**
+         * Retrieves the unique PlayFab identifiers for the given set of Game Center identifiers (referenced in the Game Center
+         * Programming Guide as the Player Identifier).
+         * @param request GetPlayFabIDsFromGameCenterIDsRequest
+         * @return Running future that will complete with GetPlayFabIDsFromGameCenterIDsResult
+         */
+        public PlayFabFuture<PlayFabResult<GetPlayFabIDsFromGameCenterIDsResult>> GetPlayFabIDsFromGameCenterIDs(final GetPlayFabIDsFromGameCenterIDsRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<GetPlayFabIDsFromGameCenterIDsResult>>() {
+                public PlayFabResult<GetPlayFabIDsFromGameCenterIDsResult> call() throws Exception {
+                    return privateGetPlayFabIDsFromGameCenterIDsAsync(null, request);
+                }
+            });
+        }
+
+        /**
+         * Retrieves the unique PlayFab identifiers for the given set of generic service identifiers. A generic identifier is the
+         * service name plus the service-specific ID for the player, as specified by the title when the generic identifier was
+         * added to the player account.
+         * @param request GetPlayFabIDsFromGenericIDsRequest
+         * @return Running future that will complete with GetPlayFabIDsFromGenericIDsResult
+         */
+        public PlayFabFuture<PlayFabResult<GetPlayFabIDsFromGenericIDsResult>> GetPlayFabIDsFromGenericIDs(final GetPlayFabIDsFromGenericIDsRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<GetPlayFabIDsFromGenericIDsResult>>() {
+                public PlayFabResult<GetPlayFabIDsFromGenericIDsResult> call() throws Exception {
+                    return privateGetPlayFabIDsFromGenericIDsAsync(null, request);
+                }
+            });
+        }
+
+        /**
+         * Retrieves the unique PlayFab identifiers for the given set of Google identifiers. The Google identifiers are the IDs for
+         * the user accounts, available as "id" in the Google+ People API calls.
+         * @param request GetPlayFabIDsFromGoogleIDsRequest
+         * @return Running future that will complete with GetPlayFabIDsFromGoogleIDsResult
+         */
+        public PlayFabFuture<PlayFabResult<GetPlayFabIDsFromGoogleIDsResult>> GetPlayFabIDsFromGoogleIDs(final GetPlayFabIDsFromGoogleIDsRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<GetPlayFabIDsFromGoogleIDsResult>>() {
+                public PlayFabResult<GetPlayFabIDsFromGoogleIDsResult> call() throws Exception {
+                    return privateGetPlayFabIDsFromGoogleIDsAsync(null, request);
+                }
+            });
+        }
+
+        /**
+         * Retrieves the unique PlayFab identifiers for the given set of Kongregate identifiers. The Kongregate identifiers are the
+         * IDs for the user accounts, available as "user_id" from the Kongregate API methods(ex:
+         * http://developers.kongregate.com/docs/client/getUserId).
+         * @param request GetPlayFabIDsFromKongregateIDsRequest
+         * @return Running future that will complete with GetPlayFabIDsFromKongregateIDsResult
+         */
+        public PlayFabFuture<PlayFabResult<GetPlayFabIDsFromKongregateIDsResult>> GetPlayFabIDsFromKongregateIDs(final GetPlayFabIDsFromKongregateIDsRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<GetPlayFabIDsFromKongregateIDsResult>>() {
+                public PlayFabResult<GetPlayFabIDsFromKongregateIDsResult> call() throws Exception {
+                    return privateGetPlayFabIDsFromKongregateIDsAsync(null, request);
+                }
+            });
+        }
+
+        /**
+         * Retrieves the unique PlayFab identifiers for the given set of Nintendo Switch identifiers.
+         * @param request GetPlayFabIDsFromNintendoSwitchDeviceIdsRequest
+         * @return Running future that will complete with GetPlayFabIDsFromNintendoSwitchDeviceIdsResult
+         */
+        public PlayFabFuture<PlayFabResult<GetPlayFabIDsFromNintendoSwitchDeviceIdsResult>> GetPlayFabIDsFromNintendoSwitchDeviceIds(final GetPlayFabIDsFromNintendoSwitchDeviceIdsRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<GetPlayFabIDsFromNintendoSwitchDeviceIdsResult>>() {
+                public PlayFabResult<GetPlayFabIDsFromNintendoSwitchDeviceIdsResult> call() throws Exception {
+                    return privateGetPlayFabIDsFromNintendoSwitchDeviceIdsAsync(null, request);
+                }
+            });
+        }
+
+        /**
+         * Retrieves the unique PlayFab identifiers for the given set of PlayStation Network identifiers.
+         * @param request GetPlayFabIDsFromPSNAccountIDsRequest
+         * @return Running future that will complete with GetPlayFabIDsFromPSNAccountIDsResult
+         */
+        public PlayFabFuture<PlayFabResult<GetPlayFabIDsFromPSNAccountIDsResult>> GetPlayFabIDsFromPSNAccountIDs(final GetPlayFabIDsFromPSNAccountIDsRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<GetPlayFabIDsFromPSNAccountIDsResult>>() {
+                public PlayFabResult<GetPlayFabIDsFromPSNAccountIDsResult> call() throws Exception {
+                    return privateGetPlayFabIDsFromPSNAccountIDsAsync(null, request);
+                }
+            });
+        }
+
+        /**
+         * Retrieves the unique PlayFab identifiers for the given set of Steam identifiers. The Steam identifiers are the profile
+         * IDs for the user accounts, available as SteamId in the Steamworks Community API calls.
+         * @param request GetPlayFabIDsFromSteamIDsRequest
+         * @return Running future that will complete with GetPlayFabIDsFromSteamIDsResult
+         */
+        public PlayFabFuture<PlayFabResult<GetPlayFabIDsFromSteamIDsResult>> GetPlayFabIDsFromSteamIDs(final GetPlayFabIDsFromSteamIDsRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<GetPlayFabIDsFromSteamIDsResult>>() {
+                public PlayFabResult<GetPlayFabIDsFromSteamIDsResult> call() throws Exception {
+                    return privateGetPlayFabIDsFromSteamIDsAsync(null, request);
+                }
+            });
+        }
+
+        /**
+         * Retrieves the unique PlayFab identifiers for the given set of Twitch identifiers. The Twitch identifiers are the IDs for
+         * the user accounts, available as "_id" from the Twitch API methods (ex:
+         * https://github.com/justintv/Twitch-API/blob/master/v3_resources/users.md#get-usersuser).
+         * @param request GetPlayFabIDsFromTwitchIDsRequest
+         * @return Running future that will complete with GetPlayFabIDsFromTwitchIDsResult
+         */
+        public PlayFabFuture<PlayFabResult<GetPlayFabIDsFromTwitchIDsResult>> GetPlayFabIDsFromTwitchIDs(final GetPlayFabIDsFromTwitchIDsRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<GetPlayFabIDsFromTwitchIDsResult>>() {
+                public PlayFabResult<GetPlayFabIDsFromTwitchIDsResult> call() throws Exception {
+                    return privateGetPlayFabIDsFromTwitchIDsAsync(null, request);
+                }
+            });
+        }
+
+        /**
+         * Retrieves the unique PlayFab identifiers for the given set of XboxLive identifiers.
+         * @param request GetPlayFabIDsFromXboxLiveIDsRequest
+         * @return Running future that will complete with GetPlayFabIDsFromXboxLiveIDsResult
+         */
+        public PlayFabFuture<PlayFabResult<GetPlayFabIDsFromXboxLiveIDsResult>> GetPlayFabIDsFromXboxLiveIDs(final GetPlayFabIDsFromXboxLiveIDsRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<GetPlayFabIDsFromXboxLiveIDsResult>>() {
+                public PlayFabResult<GetPlayFabIDsFromXboxLiveIDsResult> call() throws Exception {
+                    return privateGetPlayFabIDsFromXboxLiveIDsAsync(null, request);
+                }
+            });
+        }
+
+        /**
+         * Retrieves the key-value store of custom publisher settings
+         * @param request GetPublisherDataRequest
+         * @return Running future that will complete with GetPublisherDataResult
+         */
+        public PlayFabFuture<PlayFabResult<GetPublisherDataResult>> GetPublisherData(final GetPublisherDataRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<GetPublisherDataResult>>() {
+                public PlayFabResult<GetPublisherDataResult> call() throws Exception {
+                    return privateGetPublisherDataAsync(null, request);
+                }
+            });
+        }
+
+        /**
+         * Retrieves a purchase along with its current PlayFab status. Returns inventory items from the purchase that are still
+         * active.
+         * @param request GetPurchaseRequest
+         * @return Running future that will complete with GetPurchaseResult
+         */
+        public PlayFabFuture<PlayFabResult<GetPurchaseResult>> GetPurchase(final GetPurchaseRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<GetPurchaseResult>>() {
+                public PlayFabResult<GetPurchaseResult> call() throws Exception {
+                    return privateGetPurchaseAsync(null, request);
+                }
+            });
+        }
+
+        /**
+         * Retrieves data stored in a shared group object, as well as the list of members in the group. Non-members of the group
+         * may use this to retrieve group data, including membership, but they will not receive data for keys marked as private.
+         * Shared Groups are designed for sharing data between a very small number of players, please see our guide:
+         * https://docs.microsoft.com/gaming/playfab/features/social/groups/using-shared-group-data
+         * @param request GetSharedGroupDataRequest
+         * @return Running future that will complete with GetSharedGroupDataResult
+         */
+        public PlayFabFuture<PlayFabResult<GetSharedGroupDataResult>> GetSharedGroupData(final GetSharedGroupDataRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<GetSharedGroupDataResult>>() {
+                public PlayFabResult<GetSharedGroupDataResult> call() throws Exception {
+                    return privateGetSharedGroupDataAsync(null, request);
+                }
+            });
+        }
+
+        /**
+         * Retrieves the set of items defined for the specified store, including all prices defined
+         * @param request GetStoreItemsRequest
+         * @return Running future that will complete with GetStoreItemsResult
+         */
+        public PlayFabFuture<PlayFabResult<GetStoreItemsResult>> GetStoreItems(final GetStoreItemsRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<GetStoreItemsResult>>() {
+                public PlayFabResult<GetStoreItemsResult> call() throws Exception {
+                    return privateGetStoreItemsAsync(null, request);
+                }
+            });
+        }
+
+        /**
+         * Retrieves the current server time
+         * @param request GetTimeRequest
+         * @return Running future that will complete with GetTimeResult
+         */
+        public PlayFabFuture<PlayFabResult<GetTimeResult>> GetTime(final GetTimeRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<GetTimeResult>>() {
+                public PlayFabResult<GetTimeResult> call() throws Exception {
+                    return privateGetTimeAsync(null, request);
+                }
+            });
+        }
+
+        /**
+         * Retrieves the key-value store of custom title settings
+         * @param request GetTitleDataRequest
+         * @return Running future that will complete with GetTitleDataResult
+         */
+        public PlayFabFuture<PlayFabResult<GetTitleDataResult>> GetTitleData(final GetTitleDataRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<GetTitleDataResult>>() {
+                public PlayFabResult<GetTitleDataResult> call() throws Exception {
+                    return privateGetTitleDataAsync(null, request);
+                }
+            });
+        }
+
+        /**
+         * Retrieves the title news feed, as configured in the developer portal
+         * @param request GetTitleNewsRequest
+         * @return Running future that will complete with GetTitleNewsResult
+         */
+        public PlayFabFuture<PlayFabResult<GetTitleNewsResult>> GetTitleNews(final GetTitleNewsRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<GetTitleNewsResult>>() {
+                public PlayFabResult<GetTitleNewsResult> call() throws Exception {
+                    return privateGetTitleNewsAsync(null, request);
+                }
+            });
+        }
+
+        /**
+         * Returns the title's base 64 encoded RSA CSP blob.
+         * @param request GetTitlePublicKeyRequest
+         * @return Running future that will complete with GetTitlePublicKeyResult
+         */
+        public PlayFabFuture<PlayFabResult<GetTitlePublicKeyResult>> GetTitlePublicKey(final GetTitlePublicKeyRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<GetTitlePublicKeyResult>>() {
+                public PlayFabResult<GetTitlePublicKeyResult> call() throws Exception {
+                    return privateGetTitlePublicKeyAsync(null, request);
+                }
+            });
+        }
+
+        /**
+         * Gets the current status of an existing trade.
+         * @param request GetTradeStatusRequest
+         * @return Running future that will complete with GetTradeStatusResponse
+         */
+        public PlayFabFuture<PlayFabResult<GetTradeStatusResponse>> GetTradeStatus(final GetTradeStatusRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<GetTradeStatusResponse>>() {
+                public PlayFabResult<GetTradeStatusResponse> call() throws Exception {
+                    return privateGetTradeStatusAsync(null, request);
+                }
+            });
+        }
+
+        /**
+         * Retrieves the title-specific custom data for the user which is readable and writable by the client
+         * @param request GetUserDataRequest
+         * @return Running future that will complete with GetUserDataResult
+         */
+        public PlayFabFuture<PlayFabResult<GetUserDataResult>> GetUserData(final GetUserDataRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<GetUserDataResult>>() {
+                public PlayFabResult<GetUserDataResult> call() throws Exception {
+                    return privateGetUserDataAsync(null, request);
+                }
+            });
+        }
+
+        /**
+         * Retrieves the user's current inventory of virtual goods
+         * @param request GetUserInventoryRequest
+         * @return Running future that will complete with GetUserInventoryResult
+         */
+        public PlayFabFuture<PlayFabResult<GetUserInventoryResult>> GetUserInventory(final GetUserInventoryRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<GetUserInventoryResult>>() {
+                public PlayFabResult<GetUserInventoryResult> call() throws Exception {
+                    return privateGetUserInventoryAsync(null, request);
+                }
+            });
+        }
+
+        /**
+         * Retrieves the publisher-specific custom data for the user which is readable and writable by the client
+         * @param request GetUserDataRequest
+         * @return Running future that will complete with GetUserDataResult
+         */
+        public PlayFabFuture<PlayFabResult<GetUserDataResult>> GetUserPublisherData(final GetUserDataRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<GetUserDataResult>>() {
+                public PlayFabResult<GetUserDataResult> call() throws Exception {
+                    return privateGetUserPublisherDataAsync(null, request);
+                }
+            });
+        }
+
+        /**
+         * Retrieves the publisher-specific custom data for the user which can only be read by the client
+         * @param request GetUserDataRequest
+         * @return Running future that will complete with GetUserDataResult
+         */
+        public PlayFabFuture<PlayFabResult<GetUserDataResult>> GetUserPublisherReadOnlyData(final GetUserDataRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<GetUserDataResult>>() {
+                public PlayFabResult<GetUserDataResult> call() throws Exception {
+                    return privateGetUserPublisherReadOnlyDataAsync(null, request);
+                }
+            });
+        }
+
+        /**
+         * Retrieves the title-specific custom data for the user which can only be read by the client
+         * @param request GetUserDataRequest
+         * @return Running future that will complete with GetUserDataResult
+         */
+        public PlayFabFuture<PlayFabResult<GetUserDataResult>> GetUserReadOnlyData(final GetUserDataRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<GetUserDataResult>>() {
+                public PlayFabResult<GetUserDataResult> call() throws Exception {
+                    return privateGetUserReadOnlyDataAsync(null, request);
+                }
+            });
+        }
+
+        /**
+         * Grants the specified character type to the user. CharacterIds are not globally unique; characterId must be evaluated
+         * with the parent PlayFabId to guarantee uniqueness.
+         * @param request GrantCharacterToUserRequest
+         * @return Running future that will complete with GrantCharacterToUserResult
+         */
+        public PlayFabFuture<PlayFabResult<GrantCharacterToUserResult>> GrantCharacterToUser(final GrantCharacterToUserRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<GrantCharacterToUserResult>>() {
+                public PlayFabResult<GrantCharacterToUserResult> call() throws Exception {
+                    return privateGrantCharacterToUserAsync(null, request);
+                }
+            });
+        }
+
+        /**
+         * Links the Android device identifier to the user's PlayFab account
+         * @param request LinkAndroidDeviceIDRequest
+         * @return Running future that will complete with LinkAndroidDeviceIDResult
+         */
+        public PlayFabFuture<PlayFabResult<LinkAndroidDeviceIDResult>> LinkAndroidDeviceID(final LinkAndroidDeviceIDRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<LinkAndroidDeviceIDResult>>() {
+                public PlayFabResult<LinkAndroidDeviceIDResult> call() throws Exception {
+                    return privateLinkAndroidDeviceIDAsync(null, request);
+                }
+            });
+        }
+
+        /**
+         * Links the Apple account associated with the token to the user's PlayFab account.
+         * @param request LinkAppleRequest
+         * @return Running future that will complete with EmptyResult
+         */
+        public PlayFabFuture<PlayFabResult<EmptyResult>> LinkApple(final LinkAppleRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<EmptyResult>>() {
+                public PlayFabResult<EmptyResult> call() throws Exception {
+                    return privateLinkAppleAsync(null, request);
+                }
+            });
+        }
+
+        /**
+         * Links the custom identifier, generated by the title, to the user's PlayFab account
+         * @param request LinkCustomIDRequest
+         * @return Running future that will complete with LinkCustomIDResult
+         */
+        public PlayFabFuture<PlayFabResult<LinkCustomIDResult>> LinkCustomID(final LinkCustomIDRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<LinkCustomIDResult>>() {
+                public PlayFabResult<LinkCustomIDResult> call() throws Exception {
+                    return privateLinkCustomIDAsync(null, request);
+                }
+            });
+        }
+
+        /**
+         * Links the Facebook account associated with the provided Facebook access token to the user's PlayFab account
+         * @param request LinkFacebookAccountRequest
+         * @return Running future that will complete with LinkFacebookAccountResult
+         */
+        public PlayFabFuture<PlayFabResult<LinkFacebookAccountResult>> LinkFacebookAccount(final LinkFacebookAccountRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<LinkFacebookAccountResult>>() {
+                public PlayFabResult<LinkFacebookAccountResult> call() throws Exception {
+                    return privateLinkFacebookAccountAsync(null, request);
+                }
+            });
+        }
+
+        /**
+         * Links the Facebook Instant Games Id to the user's PlayFab account
+         * @param request LinkFacebookInstantGamesIdRequest
+         * @return Running future that will complete with LinkFacebookInstantGamesIdResult
+         */
+        public PlayFabFuture<PlayFabResult<LinkFacebookInstantGamesIdResult>> LinkFacebookInstantGamesId(final LinkFacebookInstantGamesIdRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<LinkFacebookInstantGamesIdResult>>() {
+                public PlayFabResult<LinkFacebookInstantGamesIdResult> call() throws Exception {
+                    return privateLinkFacebookInstantGamesIdAsync(null, request);
+                }
+            });
+        }
+
+        /**
+         * Links the Game Center account associated with the provided Game Center ID to the user's PlayFab account. Logging in with
+         * a Game Center ID is insecure if you do not include the optional PublicKeyUrl, Salt, Signature, and Timestamp parameters
+         * in this request. It is recommended you require these parameters on all Game Center calls by going to the Apple Add-ons
+         * page in the PlayFab Game Manager and enabling the 'Require secure authentication only for this app' option.
+         * @param request LinkGameCenterAccountRequest
+         * @return Running future that will complete with LinkGameCenterAccountResult
+         */
+        public PlayFabFuture<PlayFabResult<LinkGameCenterAccountResult>> LinkGameCenterAccount(final LinkGameCenterAccountRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<LinkGameCenterAccountResult>>() {
+                public PlayFabResult<LinkGameCenterAccountResult> call() throws Exception {
+                    return privateLinkGameCenterAccountAsync(null, request);
+                }
+            });
+        }
+
+        /**
+         * Links the currently signed-in user account to their Google account, using their Google account credentials
+         * @param request LinkGoogleAccountRequest
+         * @return Running future that will complete with LinkGoogleAccountResult
+         */
+        public PlayFabFuture<PlayFabResult<LinkGoogleAccountResult>> LinkGoogleAccount(final LinkGoogleAccountRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<LinkGoogleAccountResult>>() {
+                public PlayFabResult<LinkGoogleAccountResult> call() throws Exception {
+                    return privateLinkGoogleAccountAsync(null, request);
+                }
+            });
+        }
+
+        /**
+         * Links the vendor-specific iOS device identifier to the user's PlayFab account
+         * @param request LinkIOSDeviceIDRequest
+         * @return Running future that will complete with LinkIOSDeviceIDResult
+         */
+        public PlayFabFuture<PlayFabResult<LinkIOSDeviceIDResult>> LinkIOSDeviceID(final LinkIOSDeviceIDRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<LinkIOSDeviceIDResult>>() {
+                public PlayFabResult<LinkIOSDeviceIDResult> call() throws Exception {
+                    return privateLinkIOSDeviceIDAsync(null, request);
+                }
+            });
+        }
+
+        /**
+         * Links the Kongregate identifier to the user's PlayFab account
+         * @param request LinkKongregateAccountRequest
+         * @return Running future that will complete with LinkKongregateAccountResult
+         */
+        public PlayFabFuture<PlayFabResult<LinkKongregateAccountResult>> LinkKongregate(final LinkKongregateAccountRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<LinkKongregateAccountResult>>() {
+                public PlayFabResult<LinkKongregateAccountResult> call() throws Exception {
+                    return privateLinkKongregateAsync(null, request);
+                }
+            });
+        }
+
+        /**
+         * Links the Nintendo account associated with the token to the user's PlayFab account.
+         * @param request LinkNintendoServiceAccountRequest
+         * @return Running future that will complete with EmptyResult
+         */
+        public PlayFabFuture<PlayFabResult<EmptyResult>> LinkNintendoServiceAccount(final LinkNintendoServiceAccountRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<EmptyResult>>() {
+                public PlayFabResult<EmptyResult> call() throws Exception {
+                    return privateLinkNintendoServiceAccountAsync(null, request);
+                }
+            });
+        }
+
+        /**
+         * Links the NintendoSwitchDeviceId to the user's PlayFab account
+         * @param request LinkNintendoSwitchDeviceIdRequest
+         * @return Running future that will complete with LinkNintendoSwitchDeviceIdResult
+         */
+        public PlayFabFuture<PlayFabResult<LinkNintendoSwitchDeviceIdResult>> LinkNintendoSwitchDeviceId(final LinkNintendoSwitchDeviceIdRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<LinkNintendoSwitchDeviceIdResult>>() {
+                public PlayFabResult<LinkNintendoSwitchDeviceIdResult> call() throws Exception {
+                    return privateLinkNintendoSwitchDeviceIdAsync(null, request);
+                }
+            });
+        }
+
+        /**
+         * Links an OpenID Connect account to a user's PlayFab account, based on an existing relationship between a title and an
+         * Open ID Connect provider and the OpenId Connect JWT from that provider.
+         * @param request LinkOpenIdConnectRequest
+         * @return Running future that will complete with EmptyResult
+         */
+        public PlayFabFuture<PlayFabResult<EmptyResult>> LinkOpenIdConnect(final LinkOpenIdConnectRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<EmptyResult>>() {
+                public PlayFabResult<EmptyResult> call() throws Exception {
+                    return privateLinkOpenIdConnectAsync(null, request);
+                }
+            });
+        }
+
+        /**
+         * Links the PlayStation Network account associated with the provided access code to the user's PlayFab account
+         * @param request LinkPSNAccountRequest
+         * @return Running future that will complete with LinkPSNAccountResult
+         */
+        public PlayFabFuture<PlayFabResult<LinkPSNAccountResult>> LinkPSNAccount(final LinkPSNAccountRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<LinkPSNAccountResult>>() {
+                public PlayFabResult<LinkPSNAccountResult> call() throws Exception {
+                    return privateLinkPSNAccountAsync(null, request);
+                }
+            });
+        }
+
+        /**
+         * Links the Steam account associated with the provided Steam authentication ticket to the user's PlayFab account
+         * @param request LinkSteamAccountRequest
+         * @return Running future that will complete with LinkSteamAccountResult
+         */
+        public PlayFabFuture<PlayFabResult<LinkSteamAccountResult>> LinkSteamAccount(final LinkSteamAccountRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<LinkSteamAccountResult>>() {
+                public PlayFabResult<LinkSteamAccountResult> call() throws Exception {
+                    return privateLinkSteamAccountAsync(null, request);
+                }
+            });
+        }
+
+        /**
+         * Links the Twitch account associated with the token to the user's PlayFab account.
+         * @param request LinkTwitchAccountRequest
+         * @return Running future that will complete with LinkTwitchAccountResult
+         */
+        public PlayFabFuture<PlayFabResult<LinkTwitchAccountResult>> LinkTwitch(final LinkTwitchAccountRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<LinkTwitchAccountResult>>() {
+                public PlayFabResult<LinkTwitchAccountResult> call() throws Exception {
+                    return privateLinkTwitchAsync(null, request);
+                }
+            });
+        }
+
+        /**
+         * Links the Xbox Live account associated with the provided access code to the user's PlayFab account
+         * @param request LinkXboxAccountRequest
+         * @return Running future that will complete with LinkXboxAccountResult
+         */
+        public PlayFabFuture<PlayFabResult<LinkXboxAccountResult>> LinkXboxAccount(final LinkXboxAccountRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<LinkXboxAccountResult>>() {
+                public PlayFabResult<LinkXboxAccountResult> call() throws Exception {
+                    return privateLinkXboxAccountAsync(null, request);
+                }
+            });
+        }
+
+        /**
+         * Signs the user in using the Android device identifier, returning a session identifier that can subsequently be used for
+         * API calls which require an authenticated user
+         * @param request LoginWithAndroidDeviceIDRequest
+         * @return Running future that will complete with LoginResult
+         */
+        public PlayFabFuture<PlayFabResult<LoginResult>> LoginWithAndroidDeviceID(final LoginWithAndroidDeviceIDRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<LoginResult>>() {
+                public PlayFabResult<LoginResult> call() throws Exception {
+                    return privateLoginWithAndroidDeviceIDAsync(null, request);
+                }
+            });
+        }
+
+        /**
+         * Signs in the user with a Sign in with Apple identity token.
+         * @param request LoginWithAppleRequest
+         * @return Running future that will complete with LoginResult
+         */
+        public PlayFabFuture<PlayFabResult<LoginResult>> LoginWithApple(final LoginWithAppleRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<LoginResult>>() {
+                public PlayFabResult<LoginResult> call() throws Exception {
+                    return privateLoginWithAppleAsync(null, request);
+                }
+            });
+        }
+
+        /**
+         * Signs the user in using a custom unique identifier generated by the title, returning a session identifier that can
+         * subsequently be used for API calls which require an authenticated user
+         * @param request LoginWithCustomIDRequest
+         * @return Running future that will complete with LoginResult
+         */
+        public PlayFabFuture<PlayFabResult<LoginResult>> LoginWithCustomID(final LoginWithCustomIDRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<LoginResult>>() {
+                public PlayFabResult<LoginResult> call() throws Exception {
+                    return privateLoginWithCustomIDAsync(null, request);
+                }
+            });
+        }
+
+        /**
+         * Signs the user into the PlayFab account, returning a session identifier that can subsequently be used for API calls
+         * which require an authenticated user. Unlike most other login API calls, LoginWithEmailAddress does not permit the
+         * creation of new accounts via the CreateAccountFlag. Email addresses may be used to create accounts via
+         * RegisterPlayFabUser.
+         * @param request LoginWithEmailAddressRequest
+         * @return Running future that will complete with LoginResult
+         */
+        public PlayFabFuture<PlayFabResult<LoginResult>> LoginWithEmailAddress(final LoginWithEmailAddressRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<LoginResult>>() {
+                public PlayFabResult<LoginResult> call() throws Exception {
+                    return privateLoginWithEmailAddressAsync(null, request);
+                }
+            });
+        }
+
+        /**
+         * Signs the user in using a Facebook access token, returning a session identifier that can subsequently be used for API
+         * calls which require an authenticated user
+         * @param request LoginWithFacebookRequest
+         * @return Running future that will complete with LoginResult
+         */
+        public PlayFabFuture<PlayFabResult<LoginResult>> LoginWithFacebook(final LoginWithFacebookRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<LoginResult>>() {
+                public PlayFabResult<LoginResult> call() throws Exception {
+                    return privateLoginWithFacebookAsync(null, request);
+                }
+            });
+        }
+
+        /**
+         * Signs the user in using a Facebook Instant Games ID, returning a session identifier that can subsequently be used for
+         * API calls which require an authenticated user. Requires Facebook Instant Games to be configured.
+         * @param request LoginWithFacebookInstantGamesIdRequest
+         * @return Running future that will complete with LoginResult
+         */
+        public PlayFabFuture<PlayFabResult<LoginResult>> LoginWithFacebookInstantGamesId(final LoginWithFacebookInstantGamesIdRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<LoginResult>>() {
+                public PlayFabResult<LoginResult> call() throws Exception {
+                    return privateLoginWithFacebookInstantGamesIdAsync(null, request);
+                }
+            });
+        }
+
+        /**
+         * Signs the user in using an iOS Game Center player identifier, returning a session identifier that can subsequently be
+         * used for API calls which require an authenticated user. Logging in with a Game Center ID is insecure if you do not
+         * include the optional PublicKeyUrl, Salt, Signature, and Timestamp parameters in this request. It is recommended you
+         * require these parameters on all Game Center calls by going to the Apple Add-ons page in the PlayFab Game Manager and
+         * enabling the 'Require secure authentication only for this app' option.
+         * @param request LoginWithGameCenterRequest
+         * @return Running future that will complete with LoginResult
+         */
+        public PlayFabFuture<PlayFabResult<LoginResult>> LoginWithGameCenter(final LoginWithGameCenterRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<LoginResult>>() {
+                public PlayFabResult<LoginResult> call() throws Exception {
+                    return privateLoginWithGameCenterAsync(null, request);
+                }
+            });
+        }
+
+        /**
+         * Signs the user in using their Google account credentials
+         * @param request LoginWithGoogleAccountRequest
+         * @return Running future that will complete with LoginResult
+         */
+        public PlayFabFuture<PlayFabResult<LoginResult>> LoginWithGoogleAccount(final LoginWithGoogleAccountRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<LoginResult>>() {
+                public PlayFabResult<LoginResult> call() throws Exception {
+                    return privateLoginWithGoogleAccountAsync(null, request);
+                }
+            });
+        }
+
+        /**
+         * Signs the user in using the vendor-specific iOS device identifier, returning a session identifier that can subsequently
+         * be used for API calls which require an authenticated user
+         * @param request LoginWithIOSDeviceIDRequest
+         * @return Running future that will complete with LoginResult
+         */
+        public PlayFabFuture<PlayFabResult<LoginResult>> LoginWithIOSDeviceID(final LoginWithIOSDeviceIDRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<LoginResult>>() {
+                public PlayFabResult<LoginResult> call() throws Exception {
+                    return privateLoginWithIOSDeviceIDAsync(null, request);
+                }
+            });
+        }
+
+        /**
+         * Signs the user in using a Kongregate player account.
+         * @param request LoginWithKongregateRequest
+         * @return Running future that will complete with LoginResult
+         */
+        public PlayFabFuture<PlayFabResult<LoginResult>> LoginWithKongregate(final LoginWithKongregateRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<LoginResult>>() {
+                public PlayFabResult<LoginResult> call() throws Exception {
+                    return privateLoginWithKongregateAsync(null, request);
+                }
+            });
+        }
+
+        /**
+         * Signs in the user with a Nintendo service account token.
+         * @param request LoginWithNintendoServiceAccountRequest
+         * @return Running future that will complete with LoginResult
+         */
+        public PlayFabFuture<PlayFabResult<LoginResult>> LoginWithNintendoServiceAccount(final LoginWithNintendoServiceAccountRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<LoginResult>>() {
+                public PlayFabResult<LoginResult> call() throws Exception {
+                    return privateLoginWithNintendoServiceAccountAsync(null, request);
+                }
+            });
+        }
+
+        /**
+         * Signs the user in using a Nintendo Switch Device ID, returning a session identifier that can subsequently be used for
+         * API calls which require an authenticated user
+         * @param request LoginWithNintendoSwitchDeviceIdRequest
+         * @return Running future that will complete with LoginResult
+         */
+        public PlayFabFuture<PlayFabResult<LoginResult>> LoginWithNintendoSwitchDeviceId(final LoginWithNintendoSwitchDeviceIdRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<LoginResult>>() {
+                public PlayFabResult<LoginResult> call() throws Exception {
+                    return privateLoginWithNintendoSwitchDeviceIdAsync(null, request);
+                }
+            });
+        }
+
+        /**
+         * Logs in a user with an Open ID Connect JWT created by an existing relationship between a title and an Open ID Connect
+         * provider.
+         * @param request LoginWithOpenIdConnectRequest
+         * @return Running future that will complete with LoginResult
+         */
+        public PlayFabFuture<PlayFabResult<LoginResult>> LoginWithOpenIdConnect(final LoginWithOpenIdConnectRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<LoginResult>>() {
+                public PlayFabResult<LoginResult> call() throws Exception {
+                    return privateLoginWithOpenIdConnectAsync(null, request);
+                }
+            });
+        }
+
+        /**
+         * Signs the user into the PlayFab account, returning a session identifier that can subsequently be used for API calls
+         * which require an authenticated user. Unlike most other login API calls, LoginWithPlayFab does not permit the creation of
+         * new accounts via the CreateAccountFlag. Username/Password credentials may be used to create accounts via
+         * RegisterPlayFabUser, or added to existing accounts using AddUsernamePassword.
+         * @param request LoginWithPlayFabRequest
+         * @return Running future that will complete with LoginResult
+         */
+        public PlayFabFuture<PlayFabResult<LoginResult>> LoginWithPlayFab(final LoginWithPlayFabRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<LoginResult>>() {
+                public PlayFabResult<LoginResult> call() throws Exception {
+                    return privateLoginWithPlayFabAsync(null, request);
+                }
+            });
+        }
+
+        /**
+         * Signs the user in using a PlayStation Network authentication code, returning a session identifier that can subsequently
+         * be used for API calls which require an authenticated user
+         * @param request LoginWithPSNRequest
+         * @return Running future that will complete with LoginResult
+         */
+        public PlayFabFuture<PlayFabResult<LoginResult>> LoginWithPSN(final LoginWithPSNRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<LoginResult>>() {
+                public PlayFabResult<LoginResult> call() throws Exception {
+                    return privateLoginWithPSNAsync(null, request);
+                }
+            });
+        }
+
+        /**
+         * Signs the user in using a Steam authentication ticket, returning a session identifier that can subsequently be used for
+         * API calls which require an authenticated user
+         * @param request LoginWithSteamRequest
+         * @return Running future that will complete with LoginResult
+         */
+        public PlayFabFuture<PlayFabResult<LoginResult>> LoginWithSteam(final LoginWithSteamRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<LoginResult>>() {
+                public PlayFabResult<LoginResult> call() throws Exception {
+                    return privateLoginWithSteamAsync(null, request);
+                }
+            });
+        }
+
+        /**
+         * Signs the user in using a Twitch access token.
+         * @param request LoginWithTwitchRequest
+         * @return Running future that will complete with LoginResult
+         */
+        public PlayFabFuture<PlayFabResult<LoginResult>> LoginWithTwitch(final LoginWithTwitchRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<LoginResult>>() {
+                public PlayFabResult<LoginResult> call() throws Exception {
+                    return privateLoginWithTwitchAsync(null, request);
+                }
+            });
+        }
+
+        /**
+         * Signs the user in using a Xbox Live Token, returning a session identifier that can subsequently be used for API calls
+         * which require an authenticated user
+         * @param request LoginWithXboxRequest
+         * @return Running future that will complete with LoginResult
+         */
+        public PlayFabFuture<PlayFabResult<LoginResult>> LoginWithXbox(final LoginWithXboxRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<LoginResult>>() {
+                public PlayFabResult<LoginResult> call() throws Exception {
+                    return privateLoginWithXboxAsync(null, request);
+                }
+            });
+        }
+
+        /**
+         * Attempts to locate a game session matching the given parameters. If the goal is to match the player into a specific
+         * active session, only the LobbyId is required. Otherwise, the BuildVersion, GameMode, and Region are all required
+         * parameters. Note that parameters specified in the search are required (they are not weighting factors). If a slot is
+         * found in a server instance matching the parameters, the slot will be assigned to that player, removing it from the
+         * availabe set. In that case, the information on the game session will be returned, otherwise the Status returned will be
+         * GameNotFound.
+         * @param request MatchmakeRequest
+         * @return Running future that will complete with MatchmakeResult
+         */
+        public PlayFabFuture<PlayFabResult<MatchmakeResult>> Matchmake(final MatchmakeRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<MatchmakeResult>>() {
+                public PlayFabResult<MatchmakeResult> call() throws Exception {
+                    return privateMatchmakeAsync(null, request);
+                }
+            });
+        }
+
+        /**
+         * Opens a new outstanding trade. Note that a given item instance may only be in one open trade at a time.
+         * @param request OpenTradeRequest
+         * @return Running future that will complete with OpenTradeResponse
+         */
+        public PlayFabFuture<PlayFabResult<OpenTradeResponse>> OpenTrade(final OpenTradeRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<OpenTradeResponse>>() {
+                public PlayFabResult<OpenTradeResponse> call() throws Exception {
+                    return privateOpenTradeAsync(null, request);
+                }
+            });
+        }
+
+        /**
+         * Selects a payment option for purchase order created via StartPurchase
+         * @param request PayForPurchaseRequest
+         * @return Running future that will complete with PayForPurchaseResult
+         */
+        public PlayFabFuture<PlayFabResult<PayForPurchaseResult>> PayForPurchase(final PayForPurchaseRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<PayForPurchaseResult>>() {
+                public PlayFabResult<PayForPurchaseResult> call() throws Exception {
+                    return privatePayForPurchaseAsync(null, request);
+                }
+            });
+        }
+
+        /**
+         * Buys a single item with virtual currency. You must specify both the virtual currency to use to purchase, as well as what
+         * the client believes the price to be. This lets the server fail the purchase if the price has changed.
+         * @param request PurchaseItemRequest
+         * @return Running future that will complete with PurchaseItemResult
+         */
+        public PlayFabFuture<PlayFabResult<PurchaseItemResult>> PurchaseItem(final PurchaseItemRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<PurchaseItemResult>>() {
+                public PlayFabResult<PurchaseItemResult> call() throws Exception {
+                    return privatePurchaseItemAsync(null, request);
+                }
+            });
+        }
+
+        /**
+         * Adds the virtual goods associated with the coupon to the user's inventory. Coupons can be generated via the
+         * Economy-&gt;Catalogs tab in the PlayFab Game Manager.
+         * @param request RedeemCouponRequest
+         * @return Running future that will complete with RedeemCouponResult
+         */
+        public PlayFabFuture<PlayFabResult<RedeemCouponResult>> RedeemCoupon(final RedeemCouponRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<RedeemCouponResult>>() {
+                public PlayFabResult<RedeemCouponResult> call() throws Exception {
+                    return privateRedeemCouponAsync(null, request);
+                }
+            });
+        }
+
+        /**
+         * Uses the supplied OAuth code to refresh the internally cached player PSN auth token
+         * @param request RefreshPSNAuthTokenRequest
+         * @return Running future that will complete with EmptyResponse
+         */
+        public PlayFabFuture<PlayFabResult<EmptyResponse>> RefreshPSNAuthToken(final RefreshPSNAuthTokenRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<EmptyResponse>>() {
+                public PlayFabResult<EmptyResponse> call() throws Exception {
+                    return privateRefreshPSNAuthTokenAsync(null, request);
+                }
+            });
+        }
+
+        /**
+         * Registers the iOS device to receive push notifications
+         * @param request RegisterForIOSPushNotificationRequest
+         * @return Running future that will complete with RegisterForIOSPushNotificationResult
+         */
+        public PlayFabFuture<PlayFabResult<RegisterForIOSPushNotificationResult>> RegisterForIOSPushNotification(final RegisterForIOSPushNotificationRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<RegisterForIOSPushNotificationResult>>() {
+                public PlayFabResult<RegisterForIOSPushNotificationResult> call() throws Exception {
+                    return privateRegisterForIOSPushNotificationAsync(null, request);
+                }
+            });
+        }
+
+        /**
+         * Registers a new Playfab user account, returning a session identifier that can subsequently be used for API calls which
+         * require an authenticated user. You must supply either a username or an email address.
+         * @param request RegisterPlayFabUserRequest
+         * @return Running future that will complete with RegisterPlayFabUserResult
+         */
+        public PlayFabFuture<PlayFabResult<RegisterPlayFabUserResult>> RegisterPlayFabUser(final RegisterPlayFabUserRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<RegisterPlayFabUserResult>>() {
+                public PlayFabResult<RegisterPlayFabUserResult> call() throws Exception {
+                    return privateRegisterPlayFabUserAsync(null, request);
+                }
+            });
+        }
+
+        /**
+         * Removes a contact email from the player's profile.
+         * @param request RemoveContactEmailRequest
+         * @return Running future that will complete with RemoveContactEmailResult
+         */
+        public PlayFabFuture<PlayFabResult<RemoveContactEmailResult>> RemoveContactEmail(final RemoveContactEmailRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<RemoveContactEmailResult>>() {
+                public PlayFabResult<RemoveContactEmailResult> call() throws Exception {
+                    return privateRemoveContactEmailAsync(null, request);
+                }
+            });
+        }
+
+        /**
+         * Removes a specified user from the friend list of the local user
+         * @param request RemoveFriendRequest
+         * @return Running future that will complete with RemoveFriendResult
+         */
+        public PlayFabFuture<PlayFabResult<RemoveFriendResult>> RemoveFriend(final RemoveFriendRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<RemoveFriendResult>>() {
+                public PlayFabResult<RemoveFriendResult> call() throws Exception {
+                    return privateRemoveFriendAsync(null, request);
+                }
+            });
+        }
+
+        /**
+         * Removes the specified generic service identifier from the player's PlayFab account.
+         * @param request RemoveGenericIDRequest
+         * @return Running future that will complete with RemoveGenericIDResult
+         */
+        public PlayFabFuture<PlayFabResult<RemoveGenericIDResult>> RemoveGenericID(final RemoveGenericIDRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<RemoveGenericIDResult>>() {
+                public PlayFabResult<RemoveGenericIDResult> call() throws Exception {
+                    return privateRemoveGenericIDAsync(null, request);
+                }
+            });
+        }
+
+        /**
+         * Removes users from the set of those able to update the shared data and the set of users in the group. Only users in the
+         * group can remove members. If as a result of the call, zero users remain with access, the group and its associated data
+         * will be deleted. Shared Groups are designed for sharing data between a very small number of players, please see our
+         * guide: https://docs.microsoft.com/gaming/playfab/features/social/groups/using-shared-group-data
+         * @param request RemoveSharedGroupMembersRequest
+         * @return Running future that will complete with RemoveSharedGroupMembersResult
+         */
+        public PlayFabFuture<PlayFabResult<RemoveSharedGroupMembersResult>> RemoveSharedGroupMembers(final RemoveSharedGroupMembersRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<RemoveSharedGroupMembersResult>>() {
+                public PlayFabResult<RemoveSharedGroupMembersResult> call() throws Exception {
+                    return privateRemoveSharedGroupMembersAsync(null, request);
+                }
+            });
+        }
+
+        /**
+         * Report player's ad activity
+         * @param request ReportAdActivityRequest
+         * @return Running future that will complete with ReportAdActivityResult
+         */
+        public PlayFabFuture<PlayFabResult<ReportAdActivityResult>> ReportAdActivity(final ReportAdActivityRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<ReportAdActivityResult>>() {
+                public PlayFabResult<ReportAdActivityResult> call() throws Exception {
+                    return privateReportAdActivityAsync(null, request);
+                }
+            });
+        }
+
+        /**
+         * Write a PlayStream event to describe the provided player device information. This API method is not designed to be
+         * called directly by developers. Each PlayFab client SDK will eventually report this information automatically.
+         * @param request DeviceInfoRequest
+         * @return Running future that will complete with EmptyResponse
+         */
+        public PlayFabFuture<PlayFabResult<EmptyResponse>> ReportDeviceInfo(final DeviceInfoRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<EmptyResponse>>() {
+                public PlayFabResult<EmptyResponse> call() throws Exception {
+                    return privateReportDeviceInfoAsync(null, request);
+                }
+            });
+        }
+
+        /**
+         * Submit a report for another player (due to bad bahavior, etc.), so that customer service representatives for the title
+         * can take action concerning potentially toxic players.
+         * @param request ReportPlayerClientRequest
+         * @return Running future that will complete with ReportPlayerClientResult
+         */
+        public PlayFabFuture<PlayFabResult<ReportPlayerClientResult>> ReportPlayer(final ReportPlayerClientRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<ReportPlayerClientResult>>() {
+                public PlayFabResult<ReportPlayerClientResult> call() throws Exception {
+                    return privateReportPlayerAsync(null, request);
+                }
+            });
+        }
+
+        /**
+         * Restores all in-app purchases based on the given restore receipt
+         * @param request RestoreIOSPurchasesRequest
+         * @return Running future that will complete with RestoreIOSPurchasesResult
+         */
+        public PlayFabFuture<PlayFabResult<RestoreIOSPurchasesResult>> RestoreIOSPurchases(final RestoreIOSPurchasesRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<RestoreIOSPurchasesResult>>() {
+                public PlayFabResult<RestoreIOSPurchasesResult> call() throws Exception {
+                    return privateRestoreIOSPurchasesAsync(null, request);
+                }
+            });
+        }
+
+        /**
+         * Reward player's ad activity
+         * @param request RewardAdActivityRequest
+         * @return Running future that will complete with RewardAdActivityResult
+         */
+        public PlayFabFuture<PlayFabResult<RewardAdActivityResult>> RewardAdActivity(final RewardAdActivityRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<RewardAdActivityResult>>() {
+                public PlayFabResult<RewardAdActivityResult> call() throws Exception {
+                    return privateRewardAdActivityAsync(null, request);
+                }
+            });
+        }
+
+        /**
+         * Forces an email to be sent to the registered email address for the user's account, with a link allowing the user to
+         * change the password.If an account recovery email template ID is provided, an email using the custom email template will
+         * be used.
+         * @param request SendAccountRecoveryEmailRequest
+         * @return Running future that will complete with SendAccountRecoveryEmailResult
+         */
+        public PlayFabFuture<PlayFabResult<SendAccountRecoveryEmailResult>> SendAccountRecoveryEmail(final SendAccountRecoveryEmailRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<SendAccountRecoveryEmailResult>>() {
+                public PlayFabResult<SendAccountRecoveryEmailResult> call() throws Exception {
+                    return privateSendAccountRecoveryEmailAsync(null, request);
+                }
+            });
+        }
+
+        /**
+         * Updates the tag list for a specified user in the friend list of the local user
+         * @param request SetFriendTagsRequest
+         * @return Running future that will complete with SetFriendTagsResult
+         */
+        public PlayFabFuture<PlayFabResult<SetFriendTagsResult>> SetFriendTags(final SetFriendTagsRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<SetFriendTagsResult>>() {
+                public PlayFabResult<SetFriendTagsResult> call() throws Exception {
+                    return privateSetFriendTagsAsync(null, request);
+                }
+            });
+        }
+
+        /**
+         * Sets the player's secret if it is not already set. Player secrets are used to sign API requests. To reset a player's
+         * secret use the Admin or Server API method SetPlayerSecret.
+         * @param request SetPlayerSecretRequest
+         * @return Running future that will complete with SetPlayerSecretResult
+         */
+        public PlayFabFuture<PlayFabResult<SetPlayerSecretResult>> SetPlayerSecret(final SetPlayerSecretRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<SetPlayerSecretResult>>() {
+                public PlayFabResult<SetPlayerSecretResult> call() throws Exception {
+                    return privateSetPlayerSecretAsync(null, request);
+                }
+            });
+        }
+
+        /**
+         * Start a new game server with a given configuration, add the current player and return the connection information.
+         * @param request StartGameRequest
+         * @return Running future that will complete with StartGameResult
+         */
+        public PlayFabFuture<PlayFabResult<StartGameResult>> StartGame(final StartGameRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<StartGameResult>>() {
+                public PlayFabResult<StartGameResult> call() throws Exception {
+                    return privateStartGameAsync(null, request);
+                }
+            });
+        }
+
+        /**
+         * Creates an order for a list of items from the title catalog
+         * @param request StartPurchaseRequest
+         * @return Running future that will complete with StartPurchaseResult
+         */
+        public PlayFabFuture<PlayFabResult<StartPurchaseResult>> StartPurchase(final StartPurchaseRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<StartPurchaseResult>>() {
+                public PlayFabResult<StartPurchaseResult> call() throws Exception {
+                    return privateStartPurchaseAsync(null, request);
+                }
+            });
+        }
+
+        /**
+         * Decrements the user's balance of the specified virtual currency by the stated amount. It is possible to make a VC
+         * balance negative with this API.
+         * @param request SubtractUserVirtualCurrencyRequest
+         * @return Running future that will complete with ModifyUserVirtualCurrencyResult
+         */
+        public PlayFabFuture<PlayFabResult<ModifyUserVirtualCurrencyResult>> SubtractUserVirtualCurrency(final SubtractUserVirtualCurrencyRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<ModifyUserVirtualCurrencyResult>>() {
+                public PlayFabResult<ModifyUserVirtualCurrencyResult> call() throws Exception {
+                    return privateSubtractUserVirtualCurrencyAsync(null, request);
+                }
+            });
+        }
+
+        /**
+         * Unlinks the related Android device identifier from the user's PlayFab account
+         * @param request UnlinkAndroidDeviceIDRequest
+         * @return Running future that will complete with UnlinkAndroidDeviceIDResult
+         */
+        public PlayFabFuture<PlayFabResult<UnlinkAndroidDeviceIDResult>> UnlinkAndroidDeviceID(final UnlinkAndroidDeviceIDRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<UnlinkAndroidDeviceIDResult>>() {
+                public PlayFabResult<UnlinkAndroidDeviceIDResult> call() throws Exception {
+                    return privateUnlinkAndroidDeviceIDAsync(null, request);
+                }
+            });
+        }
+
+        /**
+         * Unlinks the related Apple account from the user's PlayFab account.
+         * @param request UnlinkAppleRequest
+         * @return Running future that will complete with EmptyResponse
+         */
+        public PlayFabFuture<PlayFabResult<EmptyResponse>> UnlinkApple(final UnlinkAppleRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<EmptyResponse>>() {
+                public PlayFabResult<EmptyResponse> call() throws Exception {
+                    return privateUnlinkAppleAsync(null, request);
+                }
+            });
+        }
+
+        /**
+         * Unlinks the related custom identifier from the user's PlayFab account
+         * @param request UnlinkCustomIDRequest
+         * @return Running future that will complete with UnlinkCustomIDResult
+         */
+        public PlayFabFuture<PlayFabResult<UnlinkCustomIDResult>> UnlinkCustomID(final UnlinkCustomIDRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<UnlinkCustomIDResult>>() {
+                public PlayFabResult<UnlinkCustomIDResult> call() throws Exception {
+                    return privateUnlinkCustomIDAsync(null, request);
+                }
+            });
+        }
+
+        /**
+         * Unlinks the related Facebook account from the user's PlayFab account
+         * @param request UnlinkFacebookAccountRequest
+         * @return Running future that will complete with UnlinkFacebookAccountResult
+         */
+        public PlayFabFuture<PlayFabResult<UnlinkFacebookAccountResult>> UnlinkFacebookAccount(final UnlinkFacebookAccountRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<UnlinkFacebookAccountResult>>() {
+                public PlayFabResult<UnlinkFacebookAccountResult> call() throws Exception {
+                    return privateUnlinkFacebookAccountAsync(null, request);
+                }
+            });
+        }
+
+        /**
+         * Unlinks the related Facebook Instant Game Ids from the user's PlayFab account
+         * @param request UnlinkFacebookInstantGamesIdRequest
+         * @return Running future that will complete with UnlinkFacebookInstantGamesIdResult
+         */
+        public PlayFabFuture<PlayFabResult<UnlinkFacebookInstantGamesIdResult>> UnlinkFacebookInstantGamesId(final UnlinkFacebookInstantGamesIdRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<UnlinkFacebookInstantGamesIdResult>>() {
+                public PlayFabResult<UnlinkFacebookInstantGamesIdResult> call() throws Exception {
+                    return privateUnlinkFacebookInstantGamesIdAsync(null, request);
+                }
+            });
+        }
+
+        /**
+         * Unlinks the related Game Center account from the user's PlayFab account
+         * @param request UnlinkGameCenterAccountRequest
+         * @return Running future that will complete with UnlinkGameCenterAccountResult
+         */
+        public PlayFabFuture<PlayFabResult<UnlinkGameCenterAccountResult>> UnlinkGameCenterAccount(final UnlinkGameCenterAccountRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<UnlinkGameCenterAccountResult>>() {
+                public PlayFabResult<UnlinkGameCenterAccountResult> call() throws Exception {
+                    return privateUnlinkGameCenterAccountAsync(null, request);
+                }
+            });
+        }
+
+        /**
+         * Unlinks the related Google account from the user's PlayFab account
+         * (https://developers.google.com/android/reference/com/google/android/gms/auth/GoogleAuthUtil#public-methods).
+         * @param request UnlinkGoogleAccountRequest
+         * @return Running future that will complete with UnlinkGoogleAccountResult
+         */
+        public PlayFabFuture<PlayFabResult<UnlinkGoogleAccountResult>> UnlinkGoogleAccount(final UnlinkGoogleAccountRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<UnlinkGoogleAccountResult>>() {
+                public PlayFabResult<UnlinkGoogleAccountResult> call() throws Exception {
+                    return privateUnlinkGoogleAccountAsync(null, request);
+                }
+            });
+        }
+
+        /**
+         * Unlinks the related iOS device identifier from the user's PlayFab account
+         * @param request UnlinkIOSDeviceIDRequest
+         * @return Running future that will complete with UnlinkIOSDeviceIDResult
+         */
+        public PlayFabFuture<PlayFabResult<UnlinkIOSDeviceIDResult>> UnlinkIOSDeviceID(final UnlinkIOSDeviceIDRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<UnlinkIOSDeviceIDResult>>() {
+                public PlayFabResult<UnlinkIOSDeviceIDResult> call() throws Exception {
+                    return privateUnlinkIOSDeviceIDAsync(null, request);
+                }
+            });
+        }
+
+        /**
+         * Unlinks the related Kongregate identifier from the user's PlayFab account
+         * @param request UnlinkKongregateAccountRequest
+         * @return Running future that will complete with UnlinkKongregateAccountResult
+         */
+        public PlayFabFuture<PlayFabResult<UnlinkKongregateAccountResult>> UnlinkKongregate(final UnlinkKongregateAccountRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<UnlinkKongregateAccountResult>>() {
+                public PlayFabResult<UnlinkKongregateAccountResult> call() throws Exception {
+                    return privateUnlinkKongregateAsync(null, request);
+                }
+            });
+        }
+
+        /**
+         * Unlinks the related Nintendo account from the user's PlayFab account.
+         * @param request UnlinkNintendoServiceAccountRequest
+         * @return Running future that will complete with EmptyResponse
+         */
+        public PlayFabFuture<PlayFabResult<EmptyResponse>> UnlinkNintendoServiceAccount(final UnlinkNintendoServiceAccountRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<EmptyResponse>>() {
+                public PlayFabResult<EmptyResponse> call() throws Exception {
+                    return privateUnlinkNintendoServiceAccountAsync(null, request);
+                }
+            });
+        }
+
+        /**
+         * Unlinks the related NintendoSwitchDeviceId from the user's PlayFab account
+         * @param request UnlinkNintendoSwitchDeviceIdRequest
+         * @return Running future that will complete with UnlinkNintendoSwitchDeviceIdResult
+         */
+        public PlayFabFuture<PlayFabResult<UnlinkNintendoSwitchDeviceIdResult>> UnlinkNintendoSwitchDeviceId(final UnlinkNintendoSwitchDeviceIdRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<UnlinkNintendoSwitchDeviceIdResult>>() {
+                public PlayFabResult<UnlinkNintendoSwitchDeviceIdResult> call() throws Exception {
+                    return privateUnlinkNintendoSwitchDeviceIdAsync(null, request);
+                }
+            });
+        }
+
+        /**
+         * Unlinks an OpenID Connect account from a user's PlayFab account, based on the connection ID of an existing relationship
+         * between a title and an Open ID Connect provider.
+         * @param request UnlinkOpenIdConnectRequest
+         * @return Running future that will complete with EmptyResponse
+         */
+        public PlayFabFuture<PlayFabResult<EmptyResponse>> UnlinkOpenIdConnect(final UnlinkOpenIdConnectRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<EmptyResponse>>() {
+                public PlayFabResult<EmptyResponse> call() throws Exception {
+                    return privateUnlinkOpenIdConnectAsync(null, request);
+                }
+            });
+        }
+
+        /**
+         * Unlinks the related PSN account from the user's PlayFab account
+         * @param request UnlinkPSNAccountRequest
+         * @return Running future that will complete with UnlinkPSNAccountResult
+         */
+        public PlayFabFuture<PlayFabResult<UnlinkPSNAccountResult>> UnlinkPSNAccount(final UnlinkPSNAccountRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<UnlinkPSNAccountResult>>() {
+                public PlayFabResult<UnlinkPSNAccountResult> call() throws Exception {
+                    return privateUnlinkPSNAccountAsync(null, request);
+                }
+            });
+        }
+
+        /**
+         * Unlinks the related Steam account from the user's PlayFab account
+         * @param request UnlinkSteamAccountRequest
+         * @return Running future that will complete with UnlinkSteamAccountResult
+         */
+        public PlayFabFuture<PlayFabResult<UnlinkSteamAccountResult>> UnlinkSteamAccount(final UnlinkSteamAccountRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<UnlinkSteamAccountResult>>() {
+                public PlayFabResult<UnlinkSteamAccountResult> call() throws Exception {
+                    return privateUnlinkSteamAccountAsync(null, request);
+                }
+            });
+        }
+
+        /**
+         * Unlinks the related Twitch account from the user's PlayFab account.
+         * @param request UnlinkTwitchAccountRequest
+         * @return Running future that will complete with UnlinkTwitchAccountResult
+         */
+        public PlayFabFuture<PlayFabResult<UnlinkTwitchAccountResult>> UnlinkTwitch(final UnlinkTwitchAccountRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<UnlinkTwitchAccountResult>>() {
+                public PlayFabResult<UnlinkTwitchAccountResult> call() throws Exception {
+                    return privateUnlinkTwitchAsync(null, request);
+                }
+            });
+        }
+
+        /**
+         * Unlinks the related Xbox Live account from the user's PlayFab account
+         * @param request UnlinkXboxAccountRequest
+         * @return Running future that will complete with UnlinkXboxAccountResult
+         */
+        public PlayFabFuture<PlayFabResult<UnlinkXboxAccountResult>> UnlinkXboxAccount(final UnlinkXboxAccountRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<UnlinkXboxAccountResult>>() {
+                public PlayFabResult<UnlinkXboxAccountResult> call() throws Exception {
+                    return privateUnlinkXboxAccountAsync(null, request);
+                }
+            });
+        }
+
+        /**
+         * Opens the specified container, with the specified key (when required), and returns the contents of the opened container.
+         * If the container (and key when relevant) are consumable (RemainingUses &gt; 0), their RemainingUses will be decremented,
+         * consistent with the operation of ConsumeItem.
+         * @param request UnlockContainerInstanceRequest
+         * @return Running future that will complete with UnlockContainerItemResult
+         */
+        public PlayFabFuture<PlayFabResult<UnlockContainerItemResult>> UnlockContainerInstance(final UnlockContainerInstanceRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<UnlockContainerItemResult>>() {
+                public PlayFabResult<UnlockContainerItemResult> call() throws Exception {
+                    return privateUnlockContainerInstanceAsync(null, request);
+                }
+            });
+        }
+
+        /**
+         * Searches target inventory for an ItemInstance matching the given CatalogItemId, if necessary unlocks it using an
+         * appropriate key, and returns the contents of the opened container. If the container (and key when relevant) are
+         * consumable (RemainingUses &gt; 0), their RemainingUses will be decremented, consistent with the operation of ConsumeItem.
+         * @param request UnlockContainerItemRequest
+         * @return Running future that will complete with UnlockContainerItemResult
+         */
+        public PlayFabFuture<PlayFabResult<UnlockContainerItemResult>> UnlockContainerItem(final UnlockContainerItemRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<UnlockContainerItemResult>>() {
+                public PlayFabResult<UnlockContainerItemResult> call() throws Exception {
+                    return privateUnlockContainerItemAsync(null, request);
+                }
+            });
+        }
+
+        /**
+         * Update the avatar URL of the player
+         * @param request UpdateAvatarUrlRequest
+         * @return Running future that will complete with EmptyResponse
+         */
+        public PlayFabFuture<PlayFabResult<EmptyResponse>> UpdateAvatarUrl(final UpdateAvatarUrlRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<EmptyResponse>>() {
+                public PlayFabResult<EmptyResponse> call() throws Exception {
+                    return privateUpdateAvatarUrlAsync(null, request);
+                }
+            });
+        }
+
+        /**
+         * Creates and updates the title-specific custom data for the user's character which is readable and writable by the client
+         * @param request UpdateCharacterDataRequest
+         * @return Running future that will complete with UpdateCharacterDataResult
+         */
+        public PlayFabFuture<PlayFabResult<UpdateCharacterDataResult>> UpdateCharacterData(final UpdateCharacterDataRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<UpdateCharacterDataResult>>() {
+                public PlayFabResult<UpdateCharacterDataResult> call() throws Exception {
+                    return privateUpdateCharacterDataAsync(null, request);
+                }
+            });
+        }
+
+        /**
+         * Updates the values of the specified title-specific statistics for the specific character. By default, clients are not
+         * permitted to update statistics. Developers may override this setting in the Game Manager &gt; Settings &gt; API Features.
+         * @param request UpdateCharacterStatisticsRequest
+         * @return Running future that will complete with UpdateCharacterStatisticsResult
+         */
+        public PlayFabFuture<PlayFabResult<UpdateCharacterStatisticsResult>> UpdateCharacterStatistics(final UpdateCharacterStatisticsRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<UpdateCharacterStatisticsResult>>() {
+                public PlayFabResult<UpdateCharacterStatisticsResult> call() throws Exception {
+                    return privateUpdateCharacterStatisticsAsync(null, request);
+                }
+            });
+        }
+
+        /**
+         * Updates the values of the specified title-specific statistics for the user. By default, clients are not permitted to
+         * update statistics. Developers may override this setting in the Game Manager &gt; Settings &gt; API Features.
+         * @param request UpdatePlayerStatisticsRequest
+         * @return Running future that will complete with UpdatePlayerStatisticsResult
+         */
+        public PlayFabFuture<PlayFabResult<UpdatePlayerStatisticsResult>> UpdatePlayerStatistics(final UpdatePlayerStatisticsRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<UpdatePlayerStatisticsResult>>() {
+                public PlayFabResult<UpdatePlayerStatisticsResult> call() throws Exception {
+                    return privateUpdatePlayerStatisticsAsync(null, request);
+                }
+            });
+        }
+
+        /**
+         * Adds, updates, and removes data keys for a shared group object. If the permission is set to Public, all fields updated
+         * or added in this call will be readable by users not in the group. By default, data permissions are set to Private.
+         * Regardless of the permission setting, only members of the group can update the data. Shared Groups are designed for
+         * sharing data between a very small number of players, please see our guide:
+         * https://docs.microsoft.com/gaming/playfab/features/social/groups/using-shared-group-data
+         * @param request UpdateSharedGroupDataRequest
+         * @return Running future that will complete with UpdateSharedGroupDataResult
+         */
+        public PlayFabFuture<PlayFabResult<UpdateSharedGroupDataResult>> UpdateSharedGroupData(final UpdateSharedGroupDataRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<UpdateSharedGroupDataResult>>() {
+                public PlayFabResult<UpdateSharedGroupDataResult> call() throws Exception {
+                    return privateUpdateSharedGroupDataAsync(null, request);
+                }
+            });
+        }
+
+        /**
+         * Creates and updates the title-specific custom data for the user which is readable and writable by the client
+         * @param request UpdateUserDataRequest
+         * @return Running future that will complete with UpdateUserDataResult
+         */
+        public PlayFabFuture<PlayFabResult<UpdateUserDataResult>> UpdateUserData(final UpdateUserDataRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<UpdateUserDataResult>>() {
+                public PlayFabResult<UpdateUserDataResult> call() throws Exception {
+                    return privateUpdateUserDataAsync(null, request);
+                }
+            });
+        }
+
+        /**
+         * Creates and updates the publisher-specific custom data for the user which is readable and writable by the client
+         * @param request UpdateUserDataRequest
+         * @return Running future that will complete with UpdateUserDataResult
+         */
+        public PlayFabFuture<PlayFabResult<UpdateUserDataResult>> UpdateUserPublisherData(final UpdateUserDataRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<UpdateUserDataResult>>() {
+                public PlayFabResult<UpdateUserDataResult> call() throws Exception {
+                    return privateUpdateUserPublisherDataAsync(null, request);
+                }
+            });
+        }
+
+        /**
+         * Updates the title specific display name for the user
+         * @param request UpdateUserTitleDisplayNameRequest
+         * @return Running future that will complete with UpdateUserTitleDisplayNameResult
+         */
+        public PlayFabFuture<PlayFabResult<UpdateUserTitleDisplayNameResult>> UpdateUserTitleDisplayName(final UpdateUserTitleDisplayNameRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<UpdateUserTitleDisplayNameResult>>() {
+                public PlayFabResult<UpdateUserTitleDisplayNameResult> call() throws Exception {
+                    return privateUpdateUserTitleDisplayNameAsync(null, request);
+                }
+            });
+        }
+
+        /**
+         * Validates with Amazon that the receipt for an Amazon App Store in-app purchase is valid and that it matches the
+         * purchased catalog item
+         * @param request ValidateAmazonReceiptRequest
+         * @return Running future that will complete with ValidateAmazonReceiptResult
+         */
+        public PlayFabFuture<PlayFabResult<ValidateAmazonReceiptResult>> ValidateAmazonIAPReceipt(final ValidateAmazonReceiptRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<ValidateAmazonReceiptResult>>() {
+                public PlayFabResult<ValidateAmazonReceiptResult> call() throws Exception {
+                    return privateValidateAmazonIAPReceiptAsync(null, request);
+                }
+            });
+        }
+
+        /**
+         * Validates a Google Play purchase and gives the corresponding item to the player.
+         * @param request ValidateGooglePlayPurchaseRequest
+         * @return Running future that will complete with ValidateGooglePlayPurchaseResult
+         */
+        public PlayFabFuture<PlayFabResult<ValidateGooglePlayPurchaseResult>> ValidateGooglePlayPurchase(final ValidateGooglePlayPurchaseRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<ValidateGooglePlayPurchaseResult>>() {
+                public PlayFabResult<ValidateGooglePlayPurchaseResult> call() throws Exception {
+                    return privateValidateGooglePlayPurchaseAsync(null, request);
+                }
+            });
+        }
+
+        /**
+         * Validates with the Apple store that the receipt for an iOS in-app purchase is valid and that it matches the purchased
+         * catalog item
+         * @param request ValidateIOSReceiptRequest
+         * @return Running future that will complete with ValidateIOSReceiptResult
+         */
+        public PlayFabFuture<PlayFabResult<ValidateIOSReceiptResult>> ValidateIOSReceipt(final ValidateIOSReceiptRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<ValidateIOSReceiptResult>>() {
+                public PlayFabResult<ValidateIOSReceiptResult> call() throws Exception {
+                    return privateValidateIOSReceiptAsync(null, request);
+                }
+            });
+        }
+
+        /**
+         * Validates with Windows that the receipt for an Windows App Store in-app purchase is valid and that it matches the
+         * purchased catalog item
+         * @param request ValidateWindowsReceiptRequest
+         * @return Running future that will complete with ValidateWindowsReceiptResult
+         */
+        public PlayFabFuture<PlayFabResult<ValidateWindowsReceiptResult>> ValidateWindowsStoreReceipt(final ValidateWindowsReceiptRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<ValidateWindowsReceiptResult>>() {
+                public PlayFabResult<ValidateWindowsReceiptResult> call() throws Exception {
+                    return privateValidateWindowsStoreReceiptAsync(null, request);
+                }
+            });
+        }
+
+        /**
+         * Writes a character-based event into PlayStream.
+         * @param request WriteClientCharacterEventRequest
+         * @return Running future that will complete with WriteEventResponse
+         */
+        public PlayFabFuture<PlayFabResult<WriteEventResponse>> WriteCharacterEvent(final WriteClientCharacterEventRequest request) {
+            PlayFabFuture<PlayFabResult<WriteEventResponse>> routed = routeEvent(PlayFabClassicEventRouter.EventKind.Character, request.EventName, null, request.CharacterId, request.Body, request.CustomTags, request.Timestamp);
+            if (routed != null)
+                return routed;
+            return PlayFabFuture.start(new Callable<PlayFabResult<WriteEventResponse>>() {
+                public PlayFabResult<WriteEventResponse> call() throws Exception {
+                    return privateWriteCharacterEventAsync(null, request);
+                }
+            });
+        }
+
+        /**
+         * Writes a player-based event into PlayStream.
+         * @param request WriteClientPlayerEventRequest
+         * @return Running future that will complete with WriteEventResponse
+         */
+        public PlayFabFuture<PlayFabResult<WriteEventResponse>> WritePlayerEvent(final WriteClientPlayerEventRequest request) {
+            PlayFabFuture<PlayFabResult<WriteEventResponse>> routed = routeEvent(PlayFabClassicEventRouter.EventKind.Player, request.EventName, null, null, request.Body, request.CustomTags, request.Timestamp);
+            if (routed != null)
+                return routed;
+            return PlayFabFuture.start(new Callable<PlayFabResult<WriteEventResponse>>() {
+                public PlayFabResult<WriteEventResponse> call() throws Exception {
+                    return privateWritePlayerEventAsync(null, request);
+                }
+            });
+        }
+
+        /**
+         * Writes a title-based event into PlayStream.
+         * @param request WriteTitleEventRequest
+         * @return Running future that will complete with WriteEventResponse
+         */
+        public PlayFabFuture<PlayFabResult<WriteEventResponse>> WriteTitleEvent(final WriteTitleEventRequest request) {
+            PlayFabFuture<PlayFabResult<WriteEventResponse>> routed = routeEvent(PlayFabClassicEventRouter.EventKind.Title, request.EventName, null, null, request.Body, request.CustomTags, request.Timestamp);
+            if (routed != null)
+                return routed;
+            return PlayFabFuture.start(new Callable<PlayFabResult<WriteEventResponse>>() {
+                public PlayFabResult<WriteEventResponse> call() throws Exception {
+                    return privateWriteTitleEventAsync(null, request);
+                }
+            });
+        }
+    }
 }
@@ -6,12 +6,10 @@ import com.playfab.PlayFabErrors.*;
 import com.playfab.PlayFabSettings;
 import java.util.concurrent.*;
 import java.util.*;
-import com.google.gson.*;
-import com.google.gson.reflect.*;
 
     /** API methods for managing the catalog. Inventory manages in-game assets for any given entity. */
 public class PlayFabEconomyAPI {
-    private static Gson gson = new GsonBuilder().setDateFormat("yyyy-MM-dd'T'HH:mm:ss.SSS'Z'").create();
+    private static final Async async = new Async();
 
     /**
      * Creates a new item in the working catalog using provided metadata.
@@ -22,7 +20,7 @@ public class PlayFabEconomyAPI {
     public static FutureTask<PlayFabResult<CreateDraftItemResponse>> CreateDraftItemAsync(final CreateDraftItemRequest request) {
         return new FutureTask(new Callable<PlayFabResult<CreateDraftItemResponse>>() {
             public PlayFabResult<CreateDraftItemResponse> call() throws Exception {
-                return privateCreateDraftItemAsync(request);
+                return privateCreateDraftItemAsync(null, request);
             }
         });
     }
@@ -36,7 +34,7 @@ public class PlayFabEconomyAPI {
     public static PlayFabResult<CreateDraftItemResponse> CreateDraftItem(final CreateDraftItemRequest request) {
         FutureTask<PlayFabResult<CreateDraftItemResponse>> task = new FutureTask(new Callable<PlayFabResult<CreateDraftItemResponse>>() {
             public PlayFabResult<CreateDraftItemResponse> call() throws Exception {
-                return privateCreateDraftItemAsync(request);
+                return privateCreateDraftItemAsync(null, request);
             }
         });
         try {
@@ -51,10 +49,12 @@ public class PlayFabEconomyAPI {
 
     /** Creates a new item in the working catalog using provided metadata. */
     @SuppressWarnings("unchecked")
-    private static PlayFabResult<CreateDraftItemResponse> privateCreateDraftItemAsync(final CreateDraftItemRequest request) throws Exception {
-        if (PlayFabSettings.EntityToken == null) throw new Exception ("Must call GetEntityToken before you can use the Entity API");
+    static PlayFabResult<CreateDraftItemResponse> privateCreateDraftItemAsync(final PlayFabInstanceAPI instance, final CreateDraftItemRequest request) throws Exception {
+        final PlayFabApiContext context = PlayFabInstanceAPI.contextOf(instance);
+        final String entityToken = context.getEntityToken();
+        if (entityToken == null) throw new Exception ("Must call GetEntityToken before you can use the Entity API");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Catalog/CreateDraftItem"), request, "X-EntityToken", PlayFabSettings.EntityToken);
+        FutureTask<Object> task = PlayFabHTTP.doPost(context.getURL("/Catalog/CreateDraftItem"), request, "X-EntityToken", entityToken, CreateDraftItemResponse.class);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -65,9 +65,7 @@ public class PlayFabEconomyAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
-
-        PlayFabJsonSuccess<CreateDraftItemResponse> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<CreateDraftItemResponse>>(){}.getType());
+        PlayFabJsonSuccess<CreateDraftItemResponse> resultData = (PlayFabJsonSuccess<CreateDraftItemResponse>) httpResult;
         CreateDraftItemResponse result = resultData.data;
 
         PlayFabResult<CreateDraftItemResponse> pfResult = new PlayFabResult<CreateDraftItemResponse>();
@@ -84,7 +82,7 @@ public class PlayFabEconomyAPI {
     public static FutureTask<PlayFabResult<CreateUploadUrlsResponse>> CreateUploadUrlsAsync(final CreateUploadUrlsRequest request) {
         return new FutureTask(new Callable<PlayFabResult<CreateUploadUrlsResponse>>() {
             public PlayFabResult<CreateUploadUrlsResponse> call() throws Exception {
-                return privateCreateUploadUrlsAsync(request);
+                return privateCreateUploadUrlsAsync(null, request);
             }
         });
     }
@@ -98,7 +96,7 @@ public class PlayFabEconomyAPI {
     public static PlayFabResult<CreateUploadUrlsResponse> CreateUploadUrls(final CreateUploadUrlsRequest request) {
         FutureTask<PlayFabResult<CreateUploadUrlsResponse>> task = new FutureTask(new Callable<PlayFabResult<CreateUploadUrlsResponse>>() {
             public PlayFabResult<CreateUploadUrlsResponse> call() throws Exception {
-                return privateCreateUploadUrlsAsync(request);
+                return privateCreateUploadUrlsAsync(null, request);
             }
         });
         try {
@@ -113,10 +111,12 @@ public class PlayFabEconomyAPI {
 
     /** Creates one or more upload URLs which can be used by the client to upload raw file data. */
     @SuppressWarnings("unchecked")
-    private static PlayFabResult<CreateUploadUrlsResponse> privateCreateUploadUrlsAsync(final CreateUploadUrlsRequest request) throws Exception {
-        if (PlayFabSettings.EntityToken == null) throw new Exception ("Must call GetEntityToken before you can use the Entity API");
+    static PlayFabResult<CreateUploadUrlsResponse> privateCreateUploadUrlsAsync(final PlayFabInstanceAPI instance, final CreateUploadUrlsRequest request) throws Exception {
+        final PlayFabApiContext context = PlayFabInstanceAPI.contextOf(instance);
+        final String entityToken = context.getEntityToken();
+        if (entityToken == null) throw new Exception ("Must call GetEntityToken before you can use the Entity API");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Catalog/CreateUploadUrls"), request, "X-EntityToken", PlayFabSettings.EntityToken);
+        FutureTask<Object> task = PlayFabHTTP.doPost(context.getURL("/Catalog/CreateUploadUrls"), request, "X-EntityToken", entityToken, CreateUploadUrlsResponse.class);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -127,9 +127,7 @@ public class PlayFabEconomyAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
-
-        PlayFabJsonSuccess<CreateUploadUrlsResponse> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<CreateUploadUrlsResponse>>(){}.getType());
+        PlayFabJsonSuccess<CreateUploadUrlsResponse> resultData = (PlayFabJsonSuccess<CreateUploadUrlsResponse>) httpResult;
         CreateUploadUrlsResponse result = resultData.data;
 
         PlayFabResult<CreateUploadUrlsResponse> pfResult = new PlayFabResult<CreateUploadUrlsResponse>();
@@ -146,7 +144,7 @@ public class PlayFabEconomyAPI {
     public static FutureTask<PlayFabResult<DeleteEntityItemReviewsResponse>> DeleteEntityItemReviewsAsync(final DeleteEntityItemReviewsRequest request) {
         return new FutureTask(new Callable<PlayFabResult<DeleteEntityItemReviewsResponse>>() {
             public PlayFabResult<DeleteEntityItemReviewsResponse> call() throws Exception {
-                return privateDeleteEntityItemReviewsAsync(request);
+                return privateDeleteEntityItemReviewsAsync(null, request);
             }
         });
     }
@@ -160,7 +158,7 @@ public class PlayFabEconomyAPI {
     public static PlayFabResult<DeleteEntityItemReviewsResponse> DeleteEntityItemReviews(final DeleteEntityItemReviewsRequest request) {
         FutureTask<PlayFabResult<DeleteEntityItemReviewsResponse>> task = new FutureTask(new Callable<PlayFabResult<DeleteEntityItemReviewsResponse>>() {
             public PlayFabResult<DeleteEntityItemReviewsResponse> call() throws Exception {
-                return privateDeleteEntityItemReviewsAsync(request);
+                return privateDeleteEntityItemReviewsAsync(null, request);
             }
         });
         try {
@@ -175,10 +173,12 @@ public class PlayFabEconomyAPI {
 
     /** Deletes all reviews, helpfulness votes, and ratings submitted by the entity specified. */
     @SuppressWarnings("unchecked")
-    private static PlayFabResult<DeleteEntityItemReviewsResponse> privateDeleteEntityItemReviewsAsync(final DeleteEntityItemReviewsRequest request) throws Exception {
-        if (PlayFabSettings.EntityToken == null) throw new Exception ("Must call GetEntityToken before you can use the Entity API");
+    static PlayFabResult<DeleteEntityItemReviewsResponse> privateDeleteEntityItemReviewsAsync(final PlayFabInstanceAPI instance, final DeleteEntityItemReviewsRequest request) throws Exception {
+        final PlayFabApiContext context = PlayFabInstanceAPI.contextOf(instance);
+        final String entityToken = context.getEntityToken();
+        if (entityToken == null) throw new Exception ("Must call GetEntityToken before you can use the Entity API");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Catalog/DeleteEntityItemReviews"), request, "X-EntityToken", PlayFabSettings.EntityToken);
+        FutureTask<Object> task = PlayFabHTTP.doPost(context.getURL("/Catalog/DeleteEntityItemReviews"), request, "X-EntityToken", entityToken, DeleteEntityItemReviewsResponse.class);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -189,9 +189,7 @@ public class PlayFabEconomyAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
-
-        PlayFabJsonSuccess<DeleteEntityItemReviewsResponse> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<DeleteEntityItemReviewsResponse>>(){}.getType());
+        PlayFabJsonSuccess<DeleteEntityItemReviewsResponse> resultData = (PlayFabJsonSuccess<DeleteEntityItemReviewsResponse>) httpResult;
         DeleteEntityItemReviewsResponse result = resultData.data;
 
         PlayFabResult<DeleteEntityItemReviewsResponse> pfResult = new PlayFabResult<DeleteEntityItemReviewsResponse>();
@@ -208,7 +206,7 @@ public class PlayFabEconomyAPI {
     public static FutureTask<PlayFabResult<DeleteItemResponse>> DeleteItemAsync(final DeleteItemRequest request) {
         return new FutureTask(new Callable<PlayFabResult<DeleteItemResponse>>() {
             public PlayFabResult<DeleteItemResponse> call() throws Exception {
-                return privateDeleteItemAsync(request);
+                return privateDeleteItemAsync(null, request);
             }
         });
     }
@@ -222,7 +220,7 @@ public class PlayFabEconomyAPI {
     public static PlayFabResult<DeleteItemResponse> DeleteItem(final DeleteItemRequest request) {
         FutureTask<PlayFabResult<DeleteItemResponse>> task = new FutureTask(new Callable<PlayFabResult<DeleteItemResponse>>() {
             public PlayFabResult<DeleteItemResponse> call() throws Exception {
-                return privateDeleteItemAsync(request);
+                return privateDeleteItemAsync(null, request);
             }
         });
         try {
@@ -237,10 +235,12 @@ public class PlayFabEconomyAPI {
 
     /** Removes an item from working catalog and all published versions from the public catalog. */
     @SuppressWarnings("unchecked")
-    private static PlayFabResult<DeleteItemResponse> privateDeleteItemAsync(final DeleteItemRequest request) throws Exception {
-        if (PlayFabSettings.EntityToken == null) throw new Exception ("Must call GetEntityToken before you can use the Entity API");
+    static PlayFabResult<DeleteItemResponse> privateDeleteItemAsync(final PlayFabInstanceAPI instance, final DeleteItemRequest request) throws Exception {
+        final PlayFabApiContext context = PlayFabInstanceAPI.contextOf(instance);
+        final String entityToken = context.getEntityToken();
+        if (entityToken == null) throw new Exception ("Must call GetEntityToken before you can use the Entity API");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Catalog/DeleteItem"), request, "X-EntityToken", PlayFabSettings.EntityToken);
+        FutureTask<Object> task = PlayFabHTTP.doPost(context.getURL("/Catalog/DeleteItem"), request, "X-EntityToken", entityToken, DeleteItemResponse.class);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -251,9 +251,7 @@ public class PlayFabEconomyAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
-
-        PlayFabJsonSuccess<DeleteItemResponse> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<DeleteItemResponse>>(){}.getType());
+        PlayFabJsonSuccess<DeleteItemResponse> resultData = (PlayFabJsonSuccess<DeleteItemResponse>) httpResult;
         DeleteItemResponse result = resultData.data;
 
         PlayFabResult<DeleteItemResponse> pfResult = new PlayFabResult<DeleteItemResponse>();
@@ -270,7 +268,7 @@ public class PlayFabEconomyAPI {
     public static FutureTask<PlayFabResult<GetCatalogConfigResponse>> GetCatalogConfigAsync(final GetCatalogConfigRequest request) {
         return new FutureTask(new Callable<PlayFabResult<GetCatalogConfigResponse>>() {
             public PlayFabResult<GetCatalogConfigResponse> call() throws Exception {
-                return privateGetCatalogConfigAsync(request);
+                return privateGetCatalogConfigAsync(null, request);
             }
         });
     }
@@ -284,7 +282,7 @@ public class PlayFabEconomyAPI {
     public static PlayFabResult<GetCatalogConfigResponse> GetCatalogConfig(final GetCatalogConfigRequest request) {
         FutureTask<PlayFabResult<GetCatalogConfigResponse>> task = new FutureTask(new Callable<PlayFabResult<GetCatalogConfigResponse>>() {
             public PlayFabResult<GetCatalogConfigResponse> call() throws Exception {
-                return privateGetCatalogConfigAsync(request);
+                return privateGetCatalogConfigAsync(null, request);
             }
         });
         try {
@@ -299,10 +297,12 @@ public class PlayFabEconomyAPI {
 
     /** Gets the configuration for the catalog. */
     @SuppressWarnings("unchecked")
-    private static PlayFabResult<GetCatalogConfigResponse> privateGetCatalogConfigAsync(final GetCatalogConfigRequest request) throws Exception {
-        if (PlayFabSettings.EntityToken == null) throw new Exception ("Must call GetEntityToken before you can use the Entity API");
+    static PlayFabResult<GetCatalogConfigResponse> privateGetCatalogConfigAsync(final PlayFabInstanceAPI instance, final GetCatalogConfigRequest request) throws Exception {
+        final PlayFabApiContext context = PlayFabInstanceAPI.contextOf(instance);
+        final String entityToken = context.getEntityToken();
+        if (entityToken == null) throw new Exception ("Must call GetEntityToken before you can use the Entity API");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Catalog/GetCatalogConfig"), request, "X-EntityToken", PlayFabSettings.EntityToken);
+        FutureTask<Object> task = PlayFabHTTP.doPost(context.getURL("/Catalog/GetCatalogConfig"), request, "X-EntityToken", entityToken, GetCatalogConfigResponse.class);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -313,9 +313,7 @@ public class PlayFabEconomyAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
-
-        PlayFabJsonSuccess<GetCatalogConfigResponse> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<GetCatalogConfigResponse>>(){}.getType());
+        PlayFabJsonSuccess<GetCatalogConfigResponse> resultData = (PlayFabJsonSuccess<GetCatalogConfigResponse>) httpResult;
         GetCatalogConfigResponse result = resultData.data;
 
         PlayFabResult<GetCatalogConfigResponse> pfResult = new PlayFabResult<GetCatalogConfigResponse>();
@@ -332,7 +330,7 @@ public class PlayFabEconomyAPI {
     public static FutureTask<PlayFabResult<GetDraftItemResponse>> GetDraftItemAsync(final GetDraftItemRequest request) {
         return new FutureTask(new Callable<PlayFabResult<GetDraftItemResponse>>() {
             public PlayFabResult<GetDraftItemResponse> call() throws Exception {
-                return privateGetDraftItemAsync(request);
+                return privateGetDraftItemAsync(null, request);
             }
         });
     }
@@ -346,7 +344,7 @@ public class PlayFabEconomyAPI {
     public static PlayFabResult<GetDraftItemResponse> GetDraftItem(final GetDraftItemRequest request) {
         FutureTask<PlayFabResult<GetDraftItemResponse>> task = new FutureTask(new Callable<PlayFabResult<GetDraftItemResponse>>() {
             public PlayFabResult<GetDraftItemResponse> call() throws Exception {
-                return privateGetDraftItemAsync(request);
+                return privateGetDraftItemAsync(null, request);
             }
         });
         try {
@@ -361,10 +359,12 @@ public class PlayFabEconomyAPI {
 
     /** Retrieves an item from the working catalog. This item represents the current working state of the item. */
     @SuppressWarnings("unchecked")
-    private static PlayFabResult<GetDraftItemResponse> privateGetDraftItemAsync(final GetDraftItemRequest request) throws Exception {
-        if (PlayFabSettings.EntityToken == null) throw new Exception ("Must call GetEntityToken before you can use the Entity API");
+    static PlayFabResult<GetDraftItemResponse> privateGetDraftItemAsync(final PlayFabInstanceAPI instance, final GetDraftItemRequest request) throws Exception {
+        final PlayFabApiContext context = PlayFabInstanceAPI.contextOf(instance);
+        final String entityToken = context.getEntityToken();
+        if (entityToken == null) throw new Exception ("Must call GetEntityToken before you can use the Entity API");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Catalog/GetDraftItem"), request, "X-EntityToken", PlayFabSettings.EntityToken);
+        FutureTask<Object> task = PlayFabHTTP.doPost(context.getURL("/Catalog/GetDraftItem"), request, "X-EntityToken", entityToken, GetDraftItemResponse.class);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -375,9 +375,7 @@ public class PlayFabEconomyAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
-
-        PlayFabJsonSuccess<GetDraftItemResponse> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<GetDraftItemResponse>>(){}.getType());
+        PlayFabJsonSuccess<GetDraftItemResponse> resultData = (PlayFabJsonSuccess<GetDraftItemResponse>) httpResult;
         GetDraftItemResponse result = resultData.data;
 
         PlayFabResult<GetDraftItemResponse> pfResult = new PlayFabResult<GetDraftItemResponse>();
@@ -394,7 +392,7 @@ public class PlayFabEconomyAPI {
     public static FutureTask<PlayFabResult<GetDraftItemsResponse>> GetDraftItemsAsync(final GetDraftItemsRequest request) {
         return new FutureTask(new Callable<PlayFabResult<GetDraftItemsResponse>>() {
             public PlayFabResult<GetDraftItemsResponse> call() throws Exception {
-                return privateGetDraftItemsAsync(request);
+                return privateGetDraftItemsAsync(null, request);
             }
         });
     }
@@ -408,7 +406,7 @@ public class PlayFabEconomyAPI {
     public static PlayFabResult<GetDraftItemsResponse> GetDraftItems(final GetDraftItemsRequest request) {
         FutureTask<PlayFabResult<GetDraftItemsResponse>> task = new FutureTask(new Callable<PlayFabResult<GetDraftItemsResponse>>() {
             public PlayFabResult<GetDraftItemsResponse> call() throws Exception {
-                return privateGetDraftItemsAsync(request);
+                return privateGetDraftItemsAsync(null, request);
             }
         });
         try {
@@ -423,10 +421,12 @@ public class PlayFabEconomyAPI {
 
     /** Retrieves a paginated list of the items from the draft catalog. */
     @SuppressWarnings("unchecked")
-    private static PlayFabResult<GetDraftItemsResponse> privateGetDraftItemsAsync(final GetDraftItemsRequest request) throws Exception {
-        if (PlayFabSettings.EntityToken == null) throw new Exception ("Must call GetEntityToken before you can use the Entity API");
+    static PlayFabResult<GetDraftItemsResponse> privateGetDraftItemsAsync(final PlayFabInstanceAPI instance, final GetDraftItemsRequest request) throws Exception {
+        final PlayFabApiContext context = PlayFabInstanceAPI.contextOf(instance);
+        final String entityToken = context.getEntityToken();
+        if (entityToken == null) throw new Exception ("Must call GetEntityToken before you can use the Entity API");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Catalog/GetDraftItems"), request, "X-EntityToken", PlayFabSettings.EntityToken);
+        FutureTask<Object> task = PlayFabHTTP.doPost(context.getURL("/Catalog/GetDraftItems"), request, "X-EntityToken", entityToken, GetDraftItemsResponse.class);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -437,9 +437,7 @@ public class PlayFabEconomyAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
-
-        PlayFabJsonSuccess<GetDraftItemsResponse> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<GetDraftItemsResponse>>(){}.getType());
+        PlayFabJsonSuccess<GetDraftItemsResponse> resultData = (PlayFabJsonSuccess<GetDraftItemsResponse>) httpResult;
         GetDraftItemsResponse result = resultData.data;
 
         PlayFabResult<GetDraftItemsResponse> pfResult = new PlayFabResult<GetDraftItemsResponse>();
@@ -456,7 +454,7 @@ public class PlayFabEconomyAPI {
     public static FutureTask<PlayFabResult<GetEntityDraftItemsResponse>> GetEntityDraftItemsAsync(final GetEntityDraftItemsRequest request) {
         return new FutureTask(new Callable<PlayFabResult<GetEntityDraftItemsResponse>>() {
             public PlayFabResult<GetEntityDraftItemsResponse> call() throws Exception {
-                return privateGetEntityDraftItemsAsync(request);
+                return privateGetEntityDraftItemsAsync(null, request);
             }
         });
     }
@@ -470,7 +468,7 @@ public class PlayFabEconomyAPI {
     public static PlayFabResult<GetEntityDraftItemsResponse> GetEntityDraftItems(final GetEntityDraftItemsRequest request) {
         FutureTask<PlayFabResult<GetEntityDraftItemsResponse>> task = new FutureTask(new Callable<PlayFabResult<GetEntityDraftItemsResponse>>() {
             public PlayFabResult<GetEntityDraftItemsResponse> call() throws Exception {
-                return privateGetEntityDraftItemsAsync(request);
+                return privateGetEntityDraftItemsAsync(null, request);
             }
         });
         try {
@@ -485,10 +483,12 @@ public class PlayFabEconomyAPI {
 
     /** Retrieves a paginated list of the items from the draft catalog created by the Entity. */
     @SuppressWarnings("unchecked")
-    private static PlayFabResult<GetEntityDraftItemsResponse> privateGetEntityDraftItemsAsync(final GetEntityDraftItemsRequest request) throws Exception {
-        if (PlayFabSettings.EntityToken == null) throw new Exception ("Must call GetEntityToken before you can use the Entity API");
+    static PlayFabResult<GetEntityDraftItemsResponse> privateGetEntityDraftItemsAsync(final PlayFabInstanceAPI instance, final GetEntityDraftItemsRequest request) throws Exception {
+        final PlayFabApiContext context = PlayFabInstanceAPI.contextOf(instance);
+        final String entityToken = context.getEntityToken();
+        if (entityToken == null) throw new Exception ("Must call GetEntityToken before you can use the Entity API");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Catalog/GetEntityDraftItems"), request, "X-EntityToken", PlayFabSettings.EntityToken);
+        FutureTask<Object> task = PlayFabHTTP.doPost(context.getURL("/Catalog/GetEntityDraftItems"), request, "X-EntityToken", entityToken, GetEntityDraftItemsResponse.class);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -499,9 +499,7 @@ public class PlayFabEconomyAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
-
-        PlayFabJsonSuccess<GetEntityDraftItemsResponse> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<GetEntityDraftItemsResponse>>(){}.getType());
+        PlayFabJsonSuccess<GetEntityDraftItemsResponse> resultData = (PlayFabJsonSuccess<GetEntityDraftItemsResponse>) httpResult;
         GetEntityDraftItemsResponse result = resultData.data;
 
         PlayFabResult<GetEntityDraftItemsResponse> pfResult = new PlayFabResult<GetEntityDraftItemsResponse>();
@@ -518,7 +516,7 @@ public class PlayFabEconomyAPI {
     public static FutureTask<PlayFabResult<GetEntityItemReviewResponse>> GetEntityItemReviewAsync(final GetEntityItemReviewRequest request) {
         return new FutureTask(new Callable<PlayFabResult<GetEntityItemReviewResponse>>() {
             public PlayFabResult<GetEntityItemReviewResponse> call() throws Exception {
-                return privateGetEntityItemReviewAsync(request);
+                return privateGetEntityItemReviewAsync(null, request);
             }
         });
     }
@@ -532,7 +530,7 @@ public class PlayFabEconomyAPI {
     public static PlayFabResult<GetEntityItemReviewResponse> GetEntityItemReview(final GetEntityItemReviewRequest request) {
         FutureTask<PlayFabResult<GetEntityItemReviewResponse>> task = new FutureTask(new Callable<PlayFabResult<GetEntityItemReviewResponse>>() {
             public PlayFabResult<GetEntityItemReviewResponse> call() throws Exception {
-                return privateGetEntityItemReviewAsync(request);
+                return privateGetEntityItemReviewAsync(null, request);
             }
         });
         try {
@@ -547,10 +545,12 @@ public class PlayFabEconomyAPI {
 
     /** Gets the submitted review for the specified item by the authenticated entity. */
     @SuppressWarnings("unchecked")
-    private static PlayFabResult<GetEntityItemReviewResponse> privateGetEntityItemReviewAsync(final GetEntityItemReviewRequest request) throws Exception {
-        if (PlayFabSettings.EntityToken == null) throw new Exception ("Must call GetEntityToken before you can use the Entity API");
+    static PlayFabResult<GetEntityItemReviewResponse> privateGetEntityItemReviewAsync(final PlayFabInstanceAPI instance, final GetEntityItemReviewRequest request) throws Exception {
+        final PlayFabApiContext context = PlayFabInstanceAPI.contextOf(instance);
+        final String entityToken = context.getEntityToken();
+        if (entityToken == null) throw new Exception ("Must call GetEntityToken before you can use the Entity API");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Catalog/GetEntityItemReview"), request, "X-EntityToken", PlayFabSettings.EntityToken);
+        FutureTask<Object> task = PlayFabHTTP.doPost(context.getURL("/Catalog/GetEntityItemReview"), request, "X-EntityToken", entityToken, GetEntityItemReviewResponse.class);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -561,9 +561,7 @@ public class PlayFabEconomyAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
-
-        PlayFabJsonSuccess<GetEntityItemReviewResponse> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<GetEntityItemReviewResponse>>(){}.getType());
+        PlayFabJsonSuccess<GetEntityItemReviewResponse> resultData = (PlayFabJsonSuccess<GetEntityItemReviewResponse>) httpResult;
         GetEntityItemReviewResponse result = resultData.data;
 
         PlayFabResult<GetEntityItemReviewResponse> pfResult = new PlayFabResult<GetEntityItemReviewResponse>();
@@ -580,7 +578,7 @@ public class PlayFabEconomyAPI {
     public static FutureTask<PlayFabResult<GetItemResponse>> GetItemAsync(final GetItemRequest request) {
         return new FutureTask(new Callable<PlayFabResult<GetItemResponse>>() {
             public PlayFabResult<GetItemResponse> call() throws Exception {
-                return privateGetItemAsync(request);
+                return privateGetItemAsync(null, request);
             }
         });
     }
@@ -594,7 +592,7 @@ public class PlayFabEconomyAPI {
     public static PlayFabResult<GetItemResponse> GetItem(final GetItemRequest request) {
         FutureTask<PlayFabResult<GetItemResponse>> task = new FutureTask(new Callable<PlayFabResult<GetItemResponse>>() {
             public PlayFabResult<GetItemResponse> call() throws Exception {
-                return privateGetItemAsync(request);
+                return privateGetItemAsync(null, request);
             }
         });
         try {
@@ -609,10 +607,12 @@ public class PlayFabEconomyAPI {
 
     /** Retrieves an item from the public catalog. */
     @SuppressWarnings("unchecked")
-    private static PlayFabResult<GetItemResponse> privateGetItemAsync(final GetItemRequest request) throws Exception {
-        if (PlayFabSettings.EntityToken == null) throw new Exception ("Must call GetEntityToken before you can use the Entity API");
+    static PlayFabResult<GetItemResponse> privateGetItemAsync(final PlayFabInstanceAPI instance, final GetItemRequest request) throws Exception {
+        final PlayFabApiContext context = PlayFabInstanceAPI.contextOf(instance);
+        final String entityToken = context.getEntityToken();
+        if (entityToken == null) throw new Exception ("Must call GetEntityToken before you can use the Entity API");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Catalog/GetItem"), request, "X-EntityToken", PlayFabSettings.EntityToken);
+        FutureTask<Object> task = PlayFabHTTP.doPost(context.getURL("/Catalog/GetItem"), request, "X-EntityToken", entityToken, GetItemResponse.class);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -623,9 +623,7 @@ public class PlayFabEconomyAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
-
-        PlayFabJsonSuccess<GetItemResponse> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<GetItemResponse>>(){}.getType());
+        PlayFabJsonSuccess<GetItemResponse> resultData = (PlayFabJsonSuccess<GetItemResponse>) httpResult;
         GetItemResponse result = resultData.data;
 
         PlayFabResult<GetItemResponse> pfResult = new PlayFabResult<GetItemResponse>();
@@ -642,7 +640,7 @@ public class PlayFabEconomyAPI {
     public static FutureTask<PlayFabResult<GetItemModerationStateResponse>> GetItemModerationStateAsync(final GetItemModerationStateRequest request) {
         return new FutureTask(new Callable<PlayFabResult<GetItemModerationStateResponse>>() {
             public PlayFabResult<GetItemModerationStateResponse> call() throws Exception {
-                return privateGetItemModerationStateAsync(request);
+                return privateGetItemModerationStateAsync(null, request);
             }
         });
     }
@@ -656,7 +654,7 @@ public class PlayFabEconomyAPI {
     public static PlayFabResult<GetItemModerationStateResponse> GetItemModerationState(final GetItemModerationStateRequest request) {
         FutureTask<PlayFabResult<GetItemModerationStateResponse>> task = new FutureTask(new Callable<PlayFabResult<GetItemModerationStateResponse>>() {
             public PlayFabResult<GetItemModerationStateResponse> call() throws Exception {
-                return privateGetItemModerationStateAsync(request);
+                return privateGetItemModerationStateAsync(null, request);
             }
         });
         try {
@@ -671,10 +669,12 @@ public class PlayFabEconomyAPI {
 
     /** Gets the moderation state for an item, including the concern category and string reason. */
     @SuppressWarnings("unchecked")
-    private static PlayFabResult<GetItemModerationStateResponse> privateGetItemModerationStateAsync(final GetItemModerationStateRequest request) throws Exception {
-        if (PlayFabSettings.EntityToken == null) throw new Exception ("Must call GetEntityToken before you can use the Entity API");
+    static PlayFabResult<GetItemModerationStateResponse> privateGetItemModerationStateAsync(final PlayFabInstanceAPI instance, final GetItemModerationStateRequest request) throws Exception {
+        final PlayFabApiContext context = PlayFabInstanceAPI.contextOf(instance);
+        final String entityToken = context.getEntityToken();
+        if (entityToken == null) throw new Exception ("Must call GetEntityToken before you can use the Entity API");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Catalog/GetItemModerationState"), request, "X-EntityToken", PlayFabSettings.EntityToken);
+        FutureTask<Object> task = PlayFabHTTP.doPost(context.getURL("/Catalog/GetItemModerationState"), request, "X-EntityToken", entityToken, GetItemModerationStateResponse.class);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -685,9 +685,7 @@ public class PlayFabEconomyAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
-
-        PlayFabJsonSuccess<GetItemModerationStateResponse> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<GetItemModerationStateResponse>>(){}.getType());
+        PlayFabJsonSuccess<GetItemModerationStateResponse> resultData = (PlayFabJsonSuccess<GetItemModerationStateResponse>) httpResult;
         GetItemModerationStateResponse result = resultData.data;
 
         PlayFabResult<GetItemModerationStateResponse> pfResult = new PlayFabResult<GetItemModerationStateResponse>();
@@ -704,7 +702,7 @@ public class PlayFabEconomyAPI {
     public static FutureTask<PlayFabResult<GetItemPublishStatusResponse>> GetItemPublishStatusAsync(final GetItemPublishStatusRequest request) {
         return new FutureTask(new Callable<PlayFabResult<GetItemPublishStatusResponse>>() {
             public PlayFabResult<GetItemPublishStatusResponse> call() throws Exception {
-                return privateGetItemPublishStatusAsync(request);
+                return privateGetItemPublishStatusAsync(null, request);
             }
         });
     }
@@ -718,7 +716,7 @@ public class PlayFabEconomyAPI {
     public static PlayFabResult<GetItemPublishStatusResponse> GetItemPublishStatus(final GetItemPublishStatusRequest request) {
         FutureTask<PlayFabResult<GetItemPublishStatusResponse>> task = new FutureTask(new Callable<PlayFabResult<GetItemPublishStatusResponse>>() {
             public PlayFabResult<GetItemPublishStatusResponse> call() throws Exception {
-                return privateGetItemPublishStatusAsync(request);
+                return privateGetItemPublishStatusAsync(null, request);
             }
         });
         try {
@@ -733,10 +731,12 @@ public class PlayFabEconomyAPI {
 
     /** Gets the status of a publish of an item. */
     @SuppressWarnings("unchecked")
-    private static PlayFabResult<GetItemPublishStatusResponse> privateGetItemPublishStatusAsync(final GetItemPublishStatusRequest request) throws Exception {
-        if (PlayFabSettings.EntityToken == null) throw new Exception ("Must call GetEntityToken before you can use the Entity API");
+    static PlayFabResult<GetItemPublishStatusResponse> privateGetItemPublishStatusAsync(final PlayFabInstanceAPI instance, final GetItemPublishStatusRequest request) throws Exception {
+        final PlayFabApiContext context = PlayFabInstanceAPI.contextOf(instance);
+        final String entityToken = context.getEntityToken();
+        if (entityToken == null) throw new Exception ("Must call GetEntityToken before you can use the Entity API");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Catalog/GetItemPublishStatus"), request, "X-EntityToken", PlayFabSettings.EntityToken);
+        FutureTask<Object> task = PlayFabHTTP.doPost(context.getURL("/Catalog/GetItemPublishStatus"), request, "X-EntityToken", entityToken, GetItemPublishStatusResponse.class);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -747,9 +747,7 @@ public class PlayFabEconomyAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
-
-        PlayFabJsonSuccess<GetItemPublishStatusResponse> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<GetItemPublishStatusResponse>>(){}.getType());
+        PlayFabJsonSuccess<GetItemPublishStatusResponse> resultData = (PlayFabJsonSuccess<GetItemPublishStatusResponse>) httpResult;
         GetItemPublishStatusResponse result = resultData.data;
 
         PlayFabResult<GetItemPublishStatusResponse> pfResult = new PlayFabResult<GetItemPublishStatusResponse>();
@@ -766,7 +764,7 @@ public class PlayFabEconomyAPI {
     public static FutureTask<PlayFabResult<GetItemReviewsResponse>> GetItemReviewsAsync(final GetItemReviewsRequest request) {
         return new FutureTask(new Callable<PlayFabResult<GetItemReviewsResponse>>() {
             public PlayFabResult<GetItemReviewsResponse> call() throws Exception {
-                return privateGetItemReviewsAsync(request);
+                return privateGetItemReviewsAsync(null, request);
             }
         });
     }
@@ -780,7 +778,7 @@ public class PlayFabEconomyAPI {
     public static PlayFabResult<GetItemReviewsResponse> GetItemReviews(final GetItemReviewsRequest request) {
         FutureTask<PlayFabResult<GetItemReviewsResponse>> task = new FutureTask(new Callable<PlayFabResult<GetItemReviewsResponse>>() {
             public PlayFabResult<GetItemReviewsResponse> call() throws Exception {
-                return privateGetItemReviewsAsync(request);
+                return privateGetItemReviewsAsync(null, request);
             }
         });
         try {
@@ -795,10 +793,12 @@ public class PlayFabEconomyAPI {
 
     /** Get a paginated set of reviews associated with the specified item. */
     @SuppressWarnings("unchecked")
-    private static PlayFabResult<GetItemReviewsResponse> privateGetItemReviewsAsync(final GetItemReviewsRequest request) throws Exception {
-        if (PlayFabSettings.EntityToken == null) throw new Exception ("Must call GetEntityToken before you can use the Entity API");
+    static PlayFabResult<GetItemReviewsResponse> privateGetItemReviewsAsync(final PlayFabInstanceAPI instance, final GetItemReviewsRequest request) throws Exception {
+        final PlayFabApiContext context = PlayFabInstanceAPI.contextOf(instance);
+        final String entityToken = context.getEntityToken();
+        if (entityToken == null) throw new Exception ("Must call GetEntityToken before you can use the Entity API");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Catalog/GetItemReviews"), request, "X-EntityToken", PlayFabSettings.EntityToken);
+        FutureTask<Object> task = PlayFabHTTP.doPost(context.getURL("/Catalog/GetItemReviews"), request, "X-EntityToken", entityToken, GetItemReviewsResponse.class);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -809,9 +809,7 @@ public class PlayFabEconomyAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
-
-        PlayFabJsonSuccess<GetItemReviewsResponse> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<GetItemReviewsResponse>>(){}.getType());
+        PlayFabJsonSuccess<GetItemReviewsResponse> resultData = (PlayFabJsonSuccess<GetItemReviewsResponse>) httpResult;
         GetItemReviewsResponse result = resultData.data;
 
         PlayFabResult<GetItemReviewsResponse> pfResult = new PlayFabResult<GetItemReviewsResponse>();
@@ -828,7 +826,7 @@ public class PlayFabEconomyAPI {
     public static FutureTask<PlayFabResult<GetItemReviewSummaryResponse>> GetItemReviewSummaryAsync(final GetItemReviewSummaryRequest request) {
         return new FutureTask(new Callable<PlayFabResult<GetItemReviewSummaryResponse>>() {
             public PlayFabResult<GetItemReviewSummaryResponse> call() throws Exception {
-                return privateGetItemReviewSummaryAsync(request);
+                return privateGetItemReviewSummaryAsync(null, request);
             }
         });
     }
@@ -842,7 +840,7 @@ public class PlayFabEconomyAPI {
     public static PlayFabResult<GetItemReviewSummaryResponse> GetItemReviewSummary(final GetItemReviewSummaryRequest request) {
         FutureTask<PlayFabResult<GetItemReviewSummaryResponse>> task = new FutureTask(new Callable<PlayFabResult<GetItemReviewSummaryResponse>>() {
             public PlayFabResult<GetItemReviewSummaryResponse> call() throws Exception {
-                return privateGetItemReviewSummaryAsync(request);
+                return privateGetItemReviewSummaryAsync(null, request);
             }
         });
         try {
@@ -857,10 +855,12 @@ public class PlayFabEconomyAPI {
 
     /** Get a summary of all reviews associated with the specified item. */
     @SuppressWarnings("unchecked")
-    private static PlayFabResult<GetItemReviewSummaryResponse> privateGetItemReviewSummaryAsync(final GetItemReviewSummaryRequest request) throws Exception {
-        if (PlayFabSettings.EntityToken == null) throw new Exception ("Must call GetEntityToken before you can use the Entity API");
+    static PlayFabResult<GetItemReviewSummaryResponse> privateGetItemReviewSummaryAsync(final PlayFabInstanceAPI instance, final GetItemReviewSummaryRequest request) throws Exception {
+        final PlayFabApiContext context = PlayFabInstanceAPI.contextOf(instance);
+        final String entityToken = context.getEntityToken();
+        if (entityToken == null) throw new Exception ("Must call GetEntityToken before you can use the Entity API");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Catalog/GetItemReviewSummary"), request, "X-EntityToken", PlayFabSettings.EntityToken);
+        FutureTask<Object> task = PlayFabHTTP.doPost(context.getURL("/Catalog/GetItemReviewSummary"), request, "X-EntityToken", entityToken, GetItemReviewSummaryResponse.class);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -871,9 +871,7 @@ public class PlayFabEconomyAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
-
-        PlayFabJsonSuccess<GetItemReviewSummaryResponse> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<GetItemReviewSummaryResponse>>(){}.getType());
+        PlayFabJsonSuccess<GetItemReviewSummaryResponse> resultData = (PlayFabJsonSuccess<GetItemReviewSummaryResponse>) httpResult;
         GetItemReviewSummaryResponse result = resultData.data;
 
         PlayFabResult<GetItemReviewSummaryResponse> pfResult = new PlayFabResult<GetItemReviewSummaryResponse>();
@@ -890,7 +888,7 @@ public class PlayFabEconomyAPI {
     public static FutureTask<PlayFabResult<PublishDraftItemResponse>> PublishDraftItemAsync(final PublishDraftItemRequest request) {
         return new FutureTask(new Callable<PlayFabResult<PublishDraftItemResponse>>() {
             public PlayFabResult<PublishDraftItemResponse> call() throws Exception {
-                return privatePublishDraftItemAsync(request);
+                return privatePublishDraftItemAsync(null, request);
             }
         });
     }
@@ -904,7 +902,7 @@ public class PlayFabEconomyAPI {
     public static PlayFabResult<PublishDraftItemResponse> PublishDraftItem(final PublishDraftItemRequest request) {
         FutureTask<PlayFabResult<PublishDraftItemResponse>> task = new FutureTask(new Callable<PlayFabResult<PublishDraftItemResponse>>() {
             public PlayFabResult<PublishDraftItemResponse> call() throws Exception {
-                return privatePublishDraftItemAsync(request);
+                return privatePublishDraftItemAsync(null, request);
             }
         });
         try {
@@ -919,10 +917,12 @@ public class PlayFabEconomyAPI {
 
     /** Initiates a publish of an item from the working catalog to the public catalog. */
     @SuppressWarnings("unchecked")
-    private static PlayFabResult<PublishDraftItemResponse> privatePublishDraftItemAsync(final PublishDraftItemRequest request) throws Exception {
-        if (PlayFabSettings.EntityToken == null) throw new Exception ("Must call GetEntityToken before you can use the Entity API");
+    static PlayFabResult<PublishDraftItemResponse> privatePublishDraftItemAsync(final PlayFabInstanceAPI instance, final PublishDraftItemRequest request) throws Exception {
+        final PlayFabApiContext context = PlayFabInstanceAPI.contextOf(instance);
+        final String entityToken = context.getEntityToken();
+        if (entityToken == null) throw new Exception ("Must call GetEntityToken before you can use the Entity API");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Catalog/PublishDraftItem"), request, "X-EntityToken", PlayFabSettings.EntityToken);
+        FutureTask<Object> task = PlayFabHTTP.doPost(context.getURL("/Catalog/PublishDraftItem"), request, "X-EntityToken", entityToken, PublishDraftItemResponse.class);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -933,9 +933,7 @@ public class PlayFabEconomyAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
-
-        PlayFabJsonSuccess<PublishDraftItemResponse> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<PublishDraftItemResponse>>(){}.getType());
+        PlayFabJsonSuccess<PublishDraftItemResponse> resultData = (PlayFabJsonSuccess<PublishDraftItemResponse>) httpResult;
         PublishDraftItemResponse result = resultData.data;
 
         PlayFabResult<PublishDraftItemResponse> pfResult = new PlayFabResult<PublishDraftItemResponse>();
@@ -952,7 +950,7 @@ public class PlayFabEconomyAPI {
     public static FutureTask<PlayFabResult<ReportItemResponse>> ReportItemAsync(final ReportItemRequest request) {
         return new FutureTask(new Callable<PlayFabResult<ReportItemResponse>>() {
             public PlayFabResult<ReportItemResponse> call() throws Exception {
-                return privateReportItemAsync(request);
+                return privateReportItemAsync(null, request);
             }
         });
     }
@@ -966,7 +964,7 @@ public class PlayFabEconomyAPI {
     public static PlayFabResult<ReportItemResponse> ReportItem(final ReportItemRequest request) {
         FutureTask<PlayFabResult<ReportItemResponse>> task = new FutureTask(new Callable<PlayFabResult<ReportItemResponse>>() {
             public PlayFabResult<ReportItemResponse> call() throws Exception {
-                return privateReportItemAsync(request);
+                return privateReportItemAsync(null, request);
             }
         });
         try {
@@ -981,10 +979,12 @@ public class PlayFabEconomyAPI {
 
     /** Submit a report for an item, indicating in what way the item is inappropriate. */
     @SuppressWarnings("unchecked")
-    private static PlayFabResult<ReportItemResponse> privateReportItemAsync(final ReportItemRequest request) throws Exception {
-        if (PlayFabSettings.EntityToken == null) throw new Exception ("Must call GetEntityToken before you can use the Entity API");
+    static PlayFabResult<ReportItemResponse> privateReportItemAsync(final PlayFabInstanceAPI instance, final ReportItemRequest request) throws Exception {
+        final PlayFabApiContext context = PlayFabInstanceAPI.contextOf(instance);
+        final String entityToken = context.getEntityToken();
+        if (entityToken == null) throw new Exception ("Must call GetEntityToken before you can use the Entity API");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Catalog/ReportItem"), request, "X-EntityToken", PlayFabSettings.EntityToken);
+        FutureTask<Object> task = PlayFabHTTP.doPost(context.getURL("/Catalog/ReportItem"), request, "X-EntityToken", entityToken, ReportItemResponse.class);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -995,9 +995,7 @@ public class PlayFabEconomyAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
-
-        PlayFabJsonSuccess<ReportItemResponse> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<ReportItemResponse>>(){}.getType());
+        PlayFabJsonSuccess<ReportItemResponse> resultData = (PlayFabJsonSuccess<ReportItemResponse>) httpResult;
         ReportItemResponse result = resultData.data;
 
         PlayFabResult<ReportItemResponse> pfResult = new PlayFabResult<ReportItemResponse>();
@@ -1014,7 +1012,7 @@ public class PlayFabEconomyAPI {
     public static FutureTask<PlayFabResult<ReportItemReviewResponse>> ReportItemReviewAsync(final ReportItemReviewRequest request) {
         return new FutureTask(new Callable<PlayFabResult<ReportItemReviewResponse>>() {
             public PlayFabResult<ReportItemReviewResponse> call() throws Exception {
-                return privateReportItemReviewAsync(request);
+                return privateReportItemReviewAsync(null, request);
             }
         });
     }
@@ -1028,7 +1026,7 @@ public class PlayFabEconomyAPI {
     public static PlayFabResult<ReportItemReviewResponse> ReportItemReview(final ReportItemReviewRequest request) {
         FutureTask<PlayFabResult<ReportItemReviewResponse>> task = new FutureTask(new Callable<PlayFabResult<ReportItemReviewResponse>>() {
             public PlayFabResult<ReportItemReviewResponse> call() throws Exception {
-                return privateReportItemReviewAsync(request);
+                return privateReportItemReviewAsync(null, request);
             }
         });
         try {
@@ -1043,10 +1041,12 @@ public class PlayFabEconomyAPI {
 
     /** Submit a report for a review */
     @SuppressWarnings("unchecked")
-    private static PlayFabResult<ReportItemReviewResponse> privateReportItemReviewAsync(final ReportItemReviewRequest request) throws Exception {
-        if (PlayFabSettings.EntityToken == null) throw new Exception ("Must call GetEntityToken before you can use the Entity API");
+    static PlayFabResult<ReportItemReviewResponse> privateReportItemReviewAsync(final PlayFabInstanceAPI instance, final ReportItemReviewRequest request) throws Exception {
+        final PlayFabApiContext context = PlayFabInstanceAPI.contextOf(instance);
+        final String entityToken = context.getEntityToken();
+        if (entityToken == null) throw new Exception ("Must call GetEntityToken before you can use the Entity API");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Catalog/ReportItemReview"), request, "X-EntityToken", PlayFabSettings.EntityToken);
+        FutureTask<Object> task = PlayFabHTTP.doPost(context.getURL("/Catalog/ReportItemReview"), request, "X-EntityToken", entityToken, ReportItemReviewResponse.class);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -1057,9 +1057,7 @@ public class PlayFabEconomyAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
-
-        PlayFabJsonSuccess<ReportItemReviewResponse> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<ReportItemReviewResponse>>(){}.getType());
+        PlayFabJsonSuccess<ReportItemReviewResponse> resultData = (PlayFabJsonSuccess<ReportItemReviewResponse>) httpResult;
         ReportItemReviewResponse result = resultData.data;
 
         PlayFabResult<ReportItemReviewResponse> pfResult = new PlayFabResult<ReportItemReviewResponse>();
@@ -1076,7 +1074,7 @@ public class PlayFabEconomyAPI {
     public static FutureTask<PlayFabResult<ReviewItemResponse>> ReviewItemAsync(final ReviewItemRequest request) {
         return new FutureTask(new Callable<PlayFabResult<ReviewItemResponse>>() {
             public PlayFabResult<ReviewItemResponse> call() throws Exception {
-                return privateReviewItemAsync(request);
+                return privateReviewItemAsync(null, request);
             }
         });
     }
@@ -1090,7 +1088,7 @@ public class PlayFabEconomyAPI {
     public static PlayFabResult<ReviewItemResponse> ReviewItem(final ReviewItemRequest request) {
         FutureTask<PlayFabResult<ReviewItemResponse>> task = new FutureTask(new Callable<PlayFabResult<ReviewItemResponse>>() {
             public PlayFabResult<ReviewItemResponse> call() throws Exception {
-                return privateReviewItemAsync(request);
+                return privateReviewItemAsync(null, request);
             }
         });
         try {
@@ -1105,10 +1103,12 @@ public class PlayFabEconomyAPI {
 
     /** Creates or updates a review for the specified item. */
     @SuppressWarnings("unchecked")
-    private static PlayFabResult<ReviewItemResponse> privateReviewItemAsync(final ReviewItemRequest request) throws Exception {
-        if (PlayFabSettings.EntityToken == null) throw new Exception ("Must call GetEntityToken before you can use the Entity API");
+    static PlayFabResult<ReviewItemResponse> privateReviewItemAsync(final PlayFabInstanceAPI instance, final ReviewItemRequest request) throws Exception {
+        final PlayFabApiContext context = PlayFabInstanceAPI.contextOf(instance);
+        final String entityToken = context.getEntityToken();
+        if (entityToken == null) throw new Exception ("Must call GetEntityToken before you can use the Entity API");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Catalog/ReviewItem"), request, "X-EntityToken", PlayFabSettings.EntityToken);
+        FutureTask<Object> task = PlayFabHTTP.doPost(context.getURL("/Catalog/ReviewItem"), request, "X-EntityToken", entityToken, ReviewItemResponse.class);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -1119,9 +1119,7 @@ public class PlayFabEconomyAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
-
-        PlayFabJsonSuccess<ReviewItemResponse> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<ReviewItemResponse>>(){}.getType());
+        PlayFabJsonSuccess<ReviewItemResponse> resultData = (PlayFabJsonSuccess<ReviewItemResponse>) httpResult;
         ReviewItemResponse result = resultData.data;
 
         PlayFabResult<ReviewItemResponse> pfResult = new PlayFabResult<ReviewItemResponse>();
@@ -1139,7 +1137,7 @@ public class PlayFabEconomyAPI {
     public static FutureTask<PlayFabResult<SearchItemsResponse>> SearchItemsAsync(final SearchItemsRequest request) {
         return new FutureTask(new Callable<PlayFabResult<SearchItemsResponse>>() {
             public PlayFabResult<SearchItemsResponse> call() throws Exception {
-                return privateSearchItemsAsync(request);
+                return privateSearchItemsAsync(null, request);
             }
         });
     }
@@ -1154,7 +1152,7 @@ public class PlayFabEconomyAPI {
     public static PlayFabResult<SearchItemsResponse> SearchItems(final SearchItemsRequest request) {
         FutureTask<PlayFabResult<SearchItemsResponse>> task = new FutureTask(new Callable<PlayFabResult<SearchItemsResponse>>() {
             public PlayFabResult<SearchItemsResponse> call() throws Exception {
-                return privateSearchItemsAsync(request);
+                return privateSearchItemsAsync(null, request);
             }
         });
         try {
@@ -1172,10 +1170,12 @@ public class PlayFabEconomyAPI {
      * results.
      */
     @SuppressWarnings("unchecked")
-    private static PlayFabResult<SearchItemsResponse> privateSearchItemsAsync(final SearchItemsRequest request) throws Exception {
-        if (PlayFabSettings.EntityToken == null) throw new Exception ("Must call GetEntityToken before you can use the Entity API");
+    static PlayFabResult<SearchItemsResponse> privateSearchItemsAsync(final PlayFabInstanceAPI instance, final SearchItemsRequest request) throws Exception {
+        final PlayFabApiContext context = PlayFabInstanceAPI.contextOf(instance);
+        final String entityToken = context.getEntityToken();
+        if (entityToken == null) throw new Exception ("Must call GetEntityToken before you can use the Entity API");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Catalog/SearchItems"), request, "X-EntityToken", PlayFabSettings.EntityToken);
+        FutureTask<Object> task = PlayFabHTTP.doPost(context.getURL("/Catalog/SearchItems"), request, "X-EntityToken", entityToken, SearchItemsResponse.class);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -1186,9 +1186,7 @@ public class PlayFabEconomyAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
-
-        PlayFabJsonSuccess<SearchItemsResponse> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<SearchItemsResponse>>(){}.getType());
+        PlayFabJsonSuccess<SearchItemsResponse> resultData = (PlayFabJsonSuccess<SearchItemsResponse>) httpResult;
         SearchItemsResponse result = resultData.data;
 
         PlayFabResult<SearchItemsResponse> pfResult = new PlayFabResult<SearchItemsResponse>();
@@ -1205,7 +1203,7 @@ public class PlayFabEconomyAPI {
     public static FutureTask<PlayFabResult<SetItemModerationStateResponse>> SetItemModerationStateAsync(final SetItemModerationStateRequest request) {
         return new FutureTask(new Callable<PlayFabResult<SetItemModerationStateResponse>>() {
             public PlayFabResult<SetItemModerationStateResponse> call() throws Exception {
-                return privateSetItemModerationStateAsync(request);
+                return privateSetItemModerationStateAsync(null, request);
             }
         });
     }
@@ -1219,7 +1217,7 @@ public class PlayFabEconomyAPI {
     public static PlayFabResult<SetItemModerationStateResponse> SetItemModerationState(final SetItemModerationStateRequest request) {
         FutureTask<PlayFabResult<SetItemModerationStateResponse>> task = new FutureTask(new Callable<PlayFabResult<SetItemModerationStateResponse>>() {
             public PlayFabResult<SetItemModerationStateResponse> call() throws Exception {
-                return privateSetItemModerationStateAsync(request);
+                return privateSetItemModerationStateAsync(null, request);
             }
         });
         try {
@@ -1234,10 +1232,12 @@ public class PlayFabEconomyAPI {
 
     /** Sets the moderation state for an item, including the concern category and string reason. */
     @SuppressWarnings("unchecked")
-    private static PlayFabResult<SetItemModerationStateResponse> privateSetItemModerationStateAsync(final SetItemModerationStateRequest request) throws Exception {
-        if (PlayFabSettings.EntityToken == null) throw new Exception ("Must call GetEntityToken before you can use the Entity API");
+    static PlayFabResult<SetItemModerationStateResponse> privateSetItemModerationStateAsync(final PlayFabInstanceAPI instance, final SetItemModerationStateRequest request) throws Exception {
+        final PlayFabApiContext context = PlayFabInstanceAPI.contextOf(instance);
+        final String entityToken = context.getEntityToken();
+        if (entityToken == null) throw new Exception ("Must call GetEntityToken before you can use the Entity API");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Catalog/SetItemModerationState"), request, "X-EntityToken", PlayFabSettings.EntityToken);
+        FutureTask<Object> task = PlayFabHTTP.doPost(context.getURL("/Catalog/SetItemModerationState"), request, "X-EntityToken", entityToken, SetItemModerationStateResponse.class);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -1248,9 +1248,7 @@ public class PlayFabEconomyAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
-
-        PlayFabJsonSuccess<SetItemModerationStateResponse> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<SetItemModerationStateResponse>>(){}.getType());
+        PlayFabJsonSuccess<SetItemModerationStateResponse> resultData = (PlayFabJsonSuccess<SetItemModerationStateResponse>) httpResult;
         SetItemModerationStateResponse result = resultData.data;
 
         PlayFabResult<SetItemModerationStateResponse> pfResult = new PlayFabResult<SetItemModerationStateResponse>();
@@ -1267,7 +1265,7 @@ public class PlayFabEconomyAPI {
     public static FutureTask<PlayFabResult<SubmitItemReviewVoteResponse>> SubmitItemReviewVoteAsync(final SubmitItemReviewVoteRequest request) {
         return new FutureTask(new Callable<PlayFabResult<SubmitItemReviewVoteResponse>>() {
             public PlayFabResult<SubmitItemReviewVoteResponse> call() throws Exception {
-                return privateSubmitItemReviewVoteAsync(request);
+                return privateSubmitItemReviewVoteAsync(null, request);
             }
         });
     }
@@ -1281,7 +1279,7 @@ public class PlayFabEconomyAPI {
     public static PlayFabResult<SubmitItemReviewVoteResponse> SubmitItemReviewVote(final SubmitItemReviewVoteRequest request) {
         FutureTask<PlayFabResult<SubmitItemReviewVoteResponse>> task = new FutureTask(new Callable<PlayFabResult<SubmitItemReviewVoteResponse>>() {
             public PlayFabResult<SubmitItemReviewVoteResponse> call() throws Exception {
-                return privateSubmitItemReviewVoteAsync(request);
+                return privateSubmitItemReviewVoteAsync(null, request);
             }
         });
         try {
@@ -1296,10 +1294,12 @@ public class PlayFabEconomyAPI {
 
     /** Submit a vote for a review, indicating whether the review was helpful or unhelpful. */
     @SuppressWarnings("unchecked")
-    private static PlayFabResult<SubmitItemReviewVoteResponse> privateSubmitItemReviewVoteAsync(final SubmitItemReviewVoteRequest request) throws Exception {
-        if (PlayFabSettings.EntityToken == null) throw new Exception ("Must call GetEntityToken before you can use the Entity API");
+    static PlayFabResult<SubmitItemReviewVoteResponse> privateSubmitItemReviewVoteAsync(final PlayFabInstanceAPI instance, final SubmitItemReviewVoteRequest request) throws Exception {
+        final PlayFabApiContext context = PlayFabInstanceAPI.contextOf(instance);
+        final String entityToken = context.getEntityToken();
+        if (entityToken == null) throw new Exception ("Must call GetEntityToken before you can use the Entity API");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Catalog/SubmitItemReviewVote"), request, "X-EntityToken", PlayFabSettings.EntityToken);
+        FutureTask<Object> task = PlayFabHTTP.doPost(context.getURL("/Catalog/SubmitItemReviewVote"), request, "X-EntityToken", entityToken, SubmitItemReviewVoteResponse.class);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -1310,9 +1310,7 @@ public class PlayFabEconomyAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
-
-        PlayFabJsonSuccess<SubmitItemReviewVoteResponse> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<SubmitItemReviewVoteResponse>>(){}.getType());
+        PlayFabJsonSuccess<SubmitItemReviewVoteResponse> resultData = (PlayFabJsonSuccess<SubmitItemReviewVoteResponse>) httpResult;
         SubmitItemReviewVoteResponse result = resultData.data;
 
         PlayFabResult<SubmitItemReviewVoteResponse> pfResult = new PlayFabResult<SubmitItemReviewVoteResponse>();
@@ -1329,7 +1327,7 @@ public class PlayFabEconomyAPI {
     public static FutureTask<PlayFabResult<TakedownItemReviewsResponse>> TakedownItemReviewsAsync(final TakedownItemReviewsRequest request) {
         return new FutureTask(new Callable<PlayFabResult<TakedownItemReviewsResponse>>() {
             public PlayFabResult<TakedownItemReviewsResponse> call() throws Exception {
-                return privateTakedownItemReviewsAsync(request);
+                return privateTakedownItemReviewsAsync(null, request);
             }
         });
     }
@@ -1343,7 +1341,7 @@ public class PlayFabEconomyAPI {
     public static PlayFabResult<TakedownItemReviewsResponse> TakedownItemReviews(final TakedownItemReviewsRequest request) {
         FutureTask<PlayFabResult<TakedownItemReviewsResponse>> task = new FutureTask(new Callable<PlayFabResult<TakedownItemReviewsResponse>>() {
             public PlayFabResult<TakedownItemReviewsResponse> call() throws Exception {
-                return privateTakedownItemReviewsAsync(request);
+                return privateTakedownItemReviewsAsync(null, request);
             }
         });
         try {
@@ -1358,10 +1356,12 @@ public class PlayFabEconomyAPI {
 
     /** Submit a request to takedown one or more reviews. */
     @SuppressWarnings("unchecked")
-    private static PlayFabResult<TakedownItemReviewsResponse> privateTakedownItemReviewsAsync(final TakedownItemReviewsRequest request) throws Exception {
-        if (PlayFabSettings.EntityToken == null) throw new Exception ("Must call GetEntityToken before you can use the Entity API");
+    static PlayFabResult<TakedownItemReviewsResponse> privateTakedownItemReviewsAsync(final PlayFabInstanceAPI instance, final TakedownItemReviewsRequest request) throws Exception {
+        final PlayFabApiContext context = PlayFabInstanceAPI.contextOf(instance);
+        final String entityToken = context.getEntityToken();
+        if (entityToken == null) throw new Exception ("Must call GetEntityToken before you can use the Entity API");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Catalog/TakedownItemReviews"), request, "X-EntityToken", PlayFabSettings.EntityToken);
+        FutureTask<Object> task = PlayFabHTTP.doPost(context.getURL("/Catalog/TakedownItemReviews"), request, "X-EntityToken", entityToken, TakedownItemReviewsResponse.class);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -1372,9 +1372,7 @@ public class PlayFabEconomyAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
-
-        PlayFabJsonSuccess<TakedownItemReviewsResponse> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<TakedownItemReviewsResponse>>(){}.getType());
+        PlayFabJsonSuccess<TakedownItemReviewsResponse> resultData = (PlayFabJsonSuccess<TakedownItemReviewsResponse>) httpResult;
         TakedownItemReviewsResponse result = resultData.data;
 
         PlayFabResult<TakedownItemReviewsResponse> pfResult = new PlayFabResult<TakedownItemReviewsResponse>();
@@ -1391,7 +1389,7 @@ public class PlayFabEconomyAPI {
     public static FutureTask<PlayFabResult<UpdateCatalogConfigResponse>> UpdateCatalogConfigAsync(final UpdateCatalogConfigRequest request) {
         return new FutureTask(new Callable<PlayFabResult<UpdateCatalogConfigResponse>>() {
             public PlayFabResult<UpdateCatalogConfigResponse> call() throws Exception {
-                return privateUpdateCatalogConfigAsync(request);
+                return privateUpdateCatalogConfigAsync(null, request);
             }
         });
     }
@@ -1405,7 +1403,7 @@ public class PlayFabEconomyAPI {
     public static PlayFabResult<UpdateCatalogConfigResponse> UpdateCatalogConfig(final UpdateCatalogConfigRequest request) {
         FutureTask<PlayFabResult<UpdateCatalogConfigResponse>> task = new FutureTask(new Callable<PlayFabResult<UpdateCatalogConfigResponse>>() {
             public PlayFabResult<UpdateCatalogConfigResponse> call() throws Exception {
-                return privateUpdateCatalogConfigAsync(request);
+                return privateUpdateCatalogConfigAsync(null, request);
             }
         });
         try {
@@ -1420,10 +1418,12 @@ public class PlayFabEconomyAPI {
 
     /** Updates the configuration for the catalog. */
     @SuppressWarnings("unchecked")
-    private static PlayFabResult<UpdateCatalogConfigResponse> privateUpdateCatalogConfigAsync(final UpdateCatalogConfigRequest request) throws Exception {
-        if (PlayFabSettings.EntityToken == null) throw new Exception ("Must call GetEntityToken before you can use the Entity API");
+    static PlayFabResult<UpdateCatalogConfigResponse> privateUpdateCatalogConfigAsync(final PlayFabInstanceAPI instance, final UpdateCatalogConfigRequest request) throws Exception {
+        final PlayFabApiContext context = PlayFabInstanceAPI.contextOf(instance);
+        final String entityToken = context.getEntityToken();
+        if (entityToken == null) throw new Exception ("Must call GetEntityToken before you can use the Entity API");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Catalog/UpdateCatalogConfig"), request, "X-EntityToken", PlayFabSettings.EntityToken);
+        FutureTask<Object> task = PlayFabHTTP.doPost(context.getURL("/Catalog/UpdateCatalogConfig"), request, "X-EntityToken", entityToken, UpdateCatalogConfigResponse.class);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -1434,9 +1434,7 @@ public class PlayFabEconomyAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
-
-        PlayFabJsonSuccess<UpdateCatalogConfigResponse> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<UpdateCatalogConfigResponse>>(){}.getType());
+        PlayFabJsonSuccess<UpdateCatalogConfigResponse> resultData = (PlayFabJsonSuccess<UpdateCatalogConfigResponse>) httpResult;
         UpdateCatalogConfigResponse result = resultData.data;
 
         PlayFabResult<UpdateCatalogConfigResponse> pfResult = new PlayFabResult<UpdateCatalogConfigResponse>();
@@ -1453,7 +1451,7 @@ public class PlayFabEconomyAPI {
     public static FutureTask<PlayFabResult<UpdateDraftItemResponse>> UpdateDraftItemAsync(final UpdateDraftItemRequest request) {
         return new FutureTask(new Callable<PlayFabResult<UpdateDraftItemResponse>>() {
             public PlayFabResult<UpdateDraftItemResponse> call() throws Exception {
-                return privateUpdateDraftItemAsync(request);
+                return privateUpdateDraftItemAsync(null, request);
             }
         });
     }
@@ -1467,7 +1465,7 @@ public class PlayFabEconomyAPI {
     public static PlayFabResult<UpdateDraftItemResponse> UpdateDraftItem(final UpdateDraftItemRequest request) {
         FutureTask<PlayFabResult<UpdateDraftItemResponse>> task = new FutureTask(new Callable<PlayFabResult<UpdateDraftItemResponse>>() {
             public PlayFabResult<UpdateDraftItemResponse> call() throws Exception {
-                return privateUpdateDraftItemAsync(request);
+                return privateUpdateDraftItemAsync(null, request);
             }
         });
         try {
@@ -1482,10 +1480,12 @@ public class PlayFabEconomyAPI {
 
     /** Update the metadata for an item in the working catalog. */
     @SuppressWarnings("unchecked")
-    private static PlayFabResult<UpdateDraftItemResponse> privateUpdateDraftItemAsync(final UpdateDraftItemRequest request) throws Exception {
-        if (PlayFabSettings.EntityToken == null) throw new Exception ("Must call GetEntityToken before you can use the Entity API");
+    static PlayFabResult<UpdateDraftItemResponse> privateUpdateDraftItemAsync(final PlayFabInstanceAPI instance, final UpdateDraftItemRequest request) throws Exception {
+        final PlayFabApiContext context = PlayFabInstanceAPI.contextOf(instance);
+        final String entityToken = context.getEntityToken();
+        if (entityToken == null) throw new Exception ("Must call GetEntityToken before you can use the Entity API");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Catalog/UpdateDraftItem"), request, "X-EntityToken", PlayFabSettings.EntityToken);
+        FutureTask<Object> task = PlayFabHTTP.doPost(context.getURL("/Catalog/UpdateDraftItem"), request, "X-EntityToken", entityToken, UpdateDraftItemResponse.class);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -1496,9 +1496,7 @@ public class PlayFabEconomyAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
-
-        PlayFabJsonSuccess<UpdateDraftItemResponse> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<UpdateDraftItemResponse>>(){}.getType());
+        PlayFabJsonSuccess<UpdateDraftItemResponse> resultData = (PlayFabJsonSuccess<UpdateDraftItemResponse>) httpResult;
         UpdateDraftItemResponse result = resultData.data;
 
         PlayFabResult<UpdateDraftItemResponse> pfResult = new PlayFabResult<UpdateDraftItemResponse>();
@@ -1506,4 +1504,331 @@ public class PlayFabEconomyAPI {
         return pfResult;
     }
 
+    /**
+     * @return Non-blocking versions of every PlayFabEconomyAPI call, started on PlayFabSettings.AsyncExecutor
+     */
+    public static Async async() {
+        return async;
+    }
+
+    /**
+     * Non-blocking versions of the PlayFabEconomyAPI calls. Each call is already running when its PlayFabFuture is returned.
+     */
+    public static class Async {
+        private Async() {
+        }
+
+        /**
+         * Creates a new item in the working catalog using provided metadata.
+         * @param request CreateDraftItemRequest
+         * @return Running future that will complete with CreateDraftItemResponse
+         */
+        public PlayFabFuture<PlayFabResult<CreateDraftItemResponse>> CreateDraftItem(final CreateDraftItemRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<CreateDraftItemResponse>>() {
+                public PlayFabResult<CreateDraftItemResponse> call() throws Exception {
+                    return privateCreateDraftItemAsync(null, request);
+                }
+            });
+        }
+
+        /**
+         * Creates one or more upload URLs which can be used by the client to upload raw file data.
+         * @param request CreateUploadUrlsRequest
+         * @return Running future that will complete with CreateUploadUrlsResponse
+         */
+        public PlayFabFuture<PlayFabResult<CreateUploadUrlsResponse>> CreateUploadUrls(final CreateUploadUrlsRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<CreateUploadUrlsResponse>>() {
+                public PlayFabResult<CreateUploadUrlsResponse> call() throws Exception {
+                    return privateCreateUploadUrlsAsync(null, request);
+                }
+            });
+        }
+
+        /**
+         * Deletes all reviews, helpfulness votes, and ratings submitted by the entity specified.
+         * @param request DeleteEntityItemReviewsRequest
+         * @return Running future that will complete with DeleteEntityItemReviewsResponse
+         */
+        public PlayFabFuture<PlayFabResult<DeleteEntityItemReviewsResponse>> DeleteEntityItemReviews(final DeleteEntityItemReviewsRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<DeleteEntityItemReviewsResponse>>() {
+                public PlayFabResult<DeleteEntityItemReviewsResponse> call() throws Exception {
+                    return privateDeleteEntityItemReviewsAsync(null, request);
+                }
+            });
+        }
+
+        /**
+         * Removes an item from working catalog and all published versions from the public catalog.
+         * @param request DeleteItemRequest
+         * @return Running future that will complete with DeleteItemResponse
+         */
+        public PlayFabFuture<PlayFabResult<DeleteItemResponse>> DeleteItem(final DeleteItemRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<DeleteItemResponse>>() {
+                public PlayFabResult<DeleteItemResponse> call() throws Exception {
+                    return privateDeleteItemAsync(null, request);
+                }
+            });
+        }
+
+        /**
+         * Gets the configuration for the catalog.
+         * @param request GetCatalogConfigRequest
+         * @return Running future that will complete with GetCatalogConfigResponse
+         */
+        public PlayFabFuture<PlayFabResult<GetCatalogConfigResponse>> GetCatalogConfig(final GetCatalogConfigRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<GetCatalogConfigResponse>>() {
+                public PlayFabResult<GetCatalogConfigResponse> call() throws Exception {
+                    return privateGetCatalogConfigAsync(null, request);
+                }
+            });
+        }
+
+        /**
+         * Retrieves an item from the working catalog. This item represents the current working state of the item.
+         * @param request GetDraftItemRequest
+         * @return Running future that will complete with GetDraftItemResponse
+         */
+        public PlayFabFuture<PlayFabResult<GetDraftItemResponse>> GetDraftItem(final GetDraftItemRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<GetDraftItemResponse>>() {
+                public PlayFabResult<GetDraftItemResponse> call() throws Exception {
+                    return privateGetDraftItemAsync(null, request);
+                }
+            });
+        }
+
+        /**
+         * Retrieves a paginated list of the items from the draft catalog.
+         * @param request GetDraftItemsRequest
+         * @return Running future that will complete with GetDraftItemsResponse
+         */
+        public PlayFabFuture<PlayFabResult<GetDraftItemsResponse>> GetDraftItems(final GetDraftItemsRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<GetDraftItemsResponse>>() {
+                public PlayFabResult<GetDraftItemsResponse> call() throws Exception {
+                    return privateGetDraftItemsAsync(null, request);
+                }
+            });
+        }
+
+        /**
+         * Retrieves a paginated list of the items from the draft catalog created by the Entity.
+         * @param request GetEntityDraftItemsRequest
+         * @return Running future that will complete with GetEntityDraftItemsResponse
+         */
+        public PlayFabFuture<PlayFabResult<GetEntityDraftItemsResponse>> GetEntityDraftItems(final GetEntityDraftItemsRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<GetEntityDraftItemsResponse>>() {
+                public PlayFabResult<GetEntityDraftItemsResponse> call() throws Exception {
+                    return privateGetEntityDraftItemsAsync(null, request);
+                }
+            });
+        }
+
+        /**
+         * Gets the submitted review for the specified item by the authenticated entity.
+         * @param request GetEntityItemReviewRequest
+         * @return Running future that will complete with GetEntityItemReviewResponse
+         */
+        public PlayFabFuture<PlayFabResult<GetEntityItemReviewResponse>> GetEntityItemReview(final GetEntityItemReviewRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<GetEntityItemReviewResponse>>() {
+                public PlayFabResult<GetEntityItemReviewResponse> call() throws Exception {
+                    return privateGetEntityItemReviewAsync(null, request);
+                }
+            });
+        }
+
+        /**
+         * Retrieves an item from the public catalog.
+         * @param request GetItemRequest
+         * @return Running future that will complete with GetItemResponse
+         */
+        public PlayFabFuture<PlayFabResult<GetItemResponse>> GetItem(final GetItemRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<GetItemResponse>>() {
+                public PlayFabResult<GetItemResponse> call() throws Exception {
+                    return privateGetItemAsync(null, request);
+                }
+            });
+        }
+
+        /**
+         * Gets the moderation state for an item, including the concern category and string reason.
+         * @param request GetItemModerationStateRequest
+         * @return Running future that will complete with GetItemModerationStateResponse
+         */
+        public PlayFabFuture<PlayFabResult<GetItemModerationStateResponse>> GetItemModerationState(final GetItemModerationStateRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<GetItemModerationStateResponse>>() {
+                public PlayFabResult<GetItemModerationStateResponse> call() throws Exception {
+                    return privateGetItemModerationStateAsync(null, request);
+                }
+            });
+        }
+
+        /**
+         * Gets the status of a publish of an item.
+         * @param request GetItemPublishStatusRequest
+         * @return Running future that will complete with GetItemPublishStatusResponse
+         */
+        public PlayFabFuture<PlayFabResult<GetItemPublishStatusResponse>> GetItemPublishStatus(final GetItemPublishStatusRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<GetItemPublishStatusResponse>>() {
+                public PlayFabResult<GetItemPublishStatusResponse> call() throws Exception {
+                    return privateGetItemPublishStatusAsync(null, request);
+                }
+            });
+        }
+
+        /**
+         * Get a paginated set of reviews associated with the specified item.
+         * @param request GetItemReviewsRequest
+         * @return Running future that will complete with GetItemReviewsResponse
+         */
+        public PlayFabFuture<PlayFabResult<GetItemReviewsResponse>> GetItemReviews(final GetItemReviewsRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<GetItemReviewsResponse>>() {
+                public PlayFabResult<GetItemReviewsResponse> call() throws Exception {
+                    return privateGetItemReviewsAsync(null, request);
+                }
+            });
+        }
+
+        /**
+         * Get a summary of all reviews associated with the specified item.
+         * @param request GetItemReviewSummaryRequest
+         * @return Running future that will complete with GetItemReviewSummaryResponse
+         */
+        public PlayFabFuture<PlayFabResult<GetItemReviewSummaryResponse>> GetItemReviewSummary(final GetItemReviewSummaryRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<GetItemReviewSummaryResponse>>() {
+                public PlayFabResult<GetItemReviewSummaryResponse> call() throws Exception {
+                    return privateGetItemReviewSummaryAsync(null, request);
+                }
+            });
+        }
+
+        /**
+         * Initiates a publish of an item from the working catalog to the public catalog.
+         * @param request PublishDraftItemRequest
+         * @return Running future that will complete with PublishDraftItemResponse
+         */
+        public PlayFabFuture<PlayFabResult<PublishDraftItemResponse>> PublishDraftItem(final PublishDraftItemRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<PublishDraftItemResponse>>() {
+                public PlayFabResult<PublishDraftItemResponse> call() throws Exception {
+                    return privatePublishDraftItemAsync(null, request);
+                }
+            });
+        }
+
+        /**
+         * Submit a report for an item, indicating in what way the item is inappropriate.
+         * @param request ReportItemRequest
+         * @return Running future that will complete with ReportItemResponse
+         */
+        public PlayFabFuture<PlayFabResult<ReportItemResponse>> ReportItem(final ReportItemRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<ReportItemResponse>>() {
+                public PlayFabResult<ReportItemResponse> call() throws Exception {
+                    return privateReportItemAsync(null, request);
+                }
+            });
+        }
+
+        /**
+         * Submit a report for a review
+         * @param request ReportItemReviewRequest
+         * @return Running future that will complete with ReportItemReviewResponse
+         */
+        public PlayFabFuture<PlayFabResult<ReportItemReviewResponse>> ReportItemReview(final ReportItemReviewRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<ReportItemReviewResponse>>() {
+                public PlayFabResult<ReportItemReviewResponse> call() throws Exception {
+                    return privateReportItemReviewAsync(null, request);
+                }
+            });
+        }
+
+        /**
+         * Creates or updates a review for the specified item.
+         * @param request ReviewItemRequest
+         * @return Running future that will complete with ReviewItemResponse
+         */
+        public PlayFabFuture<PlayFabResult<ReviewItemResponse>> ReviewItem(final ReviewItemRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<ReviewItemResponse>>() {
+                public PlayFabResult<ReviewItemResponse> call() throws Exception {
+                    return privateReviewItemAsync(null, request);
+                }
+            });
+        }
+
+        /**
+         * Executes a search against the public catalog using the provided search parameters and returns a set of paginated
+         * results.
+         * @param request SearchItemsRequest
+         * @return Running future that will complete with SearchItemsResponse
+         */
+        public PlayFabFuture<PlayFabResult<SearchItemsResponse>> SearchItems(final SearchItemsRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<SearchItemsResponse>>() {
+                public PlayFabResult<SearchItemsResponse> call() throws Exception {
+                    return privateSearchItemsAsync(null, request);
+                }
+            });
+        }
+
+        /**
+         * Sets the moderation state for an item, including the concern category and string reason.
+         * @param request SetItemModerationStateRequest
+         * @return Running future that will complete with SetItemModerationStateResponse
+         */
+        public PlayFabFuture<PlayFabResult<SetItemModerationStateResponse>> SetItemModerationState(final SetItemModerationStateRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<SetItemModerationStateResponse>>() {
+                public PlayFabResult<SetItemModerationStateResponse> call() throws Exception {
+                    return privateSetItemModerationStateAsync(null, request);
+                }
+            });
+        }
+
+        /**
+         * Submit a vote for a review, indicating whether the review was helpful or unhelpful.
+         * @param request SubmitItemReviewVoteRequest
+         * @return Running future that will complete with SubmitItemReviewVoteResponse
+         */
+        public PlayFabFuture<PlayFabResult<SubmitItemReviewVoteResponse>> SubmitItemReviewVote(final SubmitItemReviewVoteRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<SubmitItemReviewVoteResponse>>() {
+                public PlayFabResult<SubmitItemReviewVoteResponse> call() throws Exception {
+                    return privateSubmitItemReviewVoteAsync(null, request);
+                }
+            });
+        }
+
+        /**
+         * Submit a request to takedown one or more reviews.
+         * @param request TakedownItemReviewsRequest
+         * @return Running future that will complete with TakedownItemReviewsResponse
+         */
+        public PlayFabFuture<PlayFabResult<TakedownItemReviewsResponse>> TakedownItemReviews(final TakedownItemReviewsRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<TakedownItemReviewsResponse>>() {
+                public PlayFabResult<TakedownItemReviewsResponse> call() throws Exception {
+                    return privateTakedownItemReviewsAsync(null, request);
+                }
+            });
+        }
+
+        /**
+         * Updates the configuration for the catalog.
+         * @param request UpdateCatalogConfigRequest
+         * @return Running future that will complete with UpdateCatalogConfigResponse
+         */
+        public PlayFabFuture<PlayFabResult<UpdateCatalogConfigResponse>> UpdateCatalogConfig(final UpdateCatalogConfigRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<UpdateCatalogConfigResponse>>() {
+                public PlayFabResult<UpdateCatalogConfigResponse> call() throws Exception {
+                    return privateUpdateCatalogConfigAsync(null, request);
+                }
+            });
+        }
+
+        /**
+         * Update the metadata for an item in the working catalog.
+         * @param request UpdateDraftItemRequest
+         * @return Running future that will complete with UpdateDraftItemResponse
+         */
+        public PlayFabFuture<PlayFabResult<UpdateDraftItemResponse>> UpdateDraftItem(final UpdateDraftItemRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<UpdateDraftItemResponse>>() {
+                public PlayFabResult<UpdateDraftItemResponse> call() throws Exception {
+                    return privateUpdateDraftItemAsync(null, request);
+                }
+            });
+        }
+    }
 }
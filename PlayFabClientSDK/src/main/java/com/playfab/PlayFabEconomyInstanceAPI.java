@@ -0,0 +1,709 @@
+package com.playfab;
+
+import com.playfab.internal.*;
+import com.playfab.PlayFabEconomyModels.*;
+import com.playfab.PlayFabErrors.*;
+import com.playfab.PlayFabSettings;
+import java.util.concurrent.*;
+import java.util.*;
+
+    /**
+     * The calls of PlayFabEconomyAPI, made with a PlayFabApiContext of this object's own instead of PlayFabSettings. Login
+     * and GetEntityToken calls keep the credentials they return in that context
+     */
+public class PlayFabEconomyInstanceAPI extends PlayFabInstanceAPI {
+    private final Async async = new Async();
+
+    public PlayFabEconomyInstanceAPI(PlayFabApiContext context) {
+        super(context);
+    }
+
+    /**
+     * Creates a new item in the working catalog using provided metadata.
+     * @param request CreateDraftItemRequest
+     * @return CreateDraftItemResponse
+     */
+    public PlayFabResult<CreateDraftItemResponse> CreateDraftItem(final CreateDraftItemRequest request) {
+        try {
+            return PlayFabEconomyAPI.privateCreateDraftItemAsync(this, request);
+        } catch(Exception e) {
+            PlayFabResult<CreateDraftItemResponse> exceptionResult = new PlayFabResult<CreateDraftItemResponse>();
+            exceptionResult.Error = PlayFabHTTP.GeneratePfError(-1, PlayFabErrorCode.Unknown, e.getMessage(), null, null);
+            return exceptionResult;
+        }
+    }
+
+    /**
+     * Creates one or more upload URLs which can be used by the client to upload raw file data.
+     * @param request CreateUploadUrlsRequest
+     * @return CreateUploadUrlsResponse
+     */
+    public PlayFabResult<CreateUploadUrlsResponse> CreateUploadUrls(final CreateUploadUrlsRequest request) {
+        try {
+            return PlayFabEconomyAPI.privateCreateUploadUrlsAsync(this, request);
+        } catch(Exception e) {
+            PlayFabResult<CreateUploadUrlsResponse> exceptionResult = new PlayFabResult<CreateUploadUrlsResponse>();
+            exceptionResult.Error = PlayFabHTTP.GeneratePfError(-1, PlayFabErrorCode.Unknown, e.getMessage(), null, null);
+            return exceptionResult;
+        }
+    }
+
+    /**
+     * Deletes all reviews, helpfulness votes, and ratings submitted by the entity specified.
+     * @param request DeleteEntityItemReviewsRequest
+     * @return DeleteEntityItemReviewsResponse
+     */
+    public PlayFabResult<DeleteEntityItemReviewsResponse> DeleteEntityItemReviews(final DeleteEntityItemReviewsRequest request) {
+        try {
+            return PlayFabEconomyAPI.privateDeleteEntityItemReviewsAsync(this, request);
+        } catch(Exception e) {
+            PlayFabResult<DeleteEntityItemReviewsResponse> exceptionResult = new PlayFabResult<DeleteEntityItemReviewsResponse>();
+            exceptionResult.Error = PlayFabHTTP.GeneratePfError(-1, PlayFabErrorCode.Unknown, e.getMessage(), null, null);
+            return exceptionResult;
+        }
+    }
+
+    /**
+     * Removes an item from working catalog and all published versions from the public catalog.
+     * @param request DeleteItemRequest
+     * @return DeleteItemResponse
+     */
+    public PlayFabResult<DeleteItemResponse> DeleteItem(final DeleteItemRequest request) {
+        try {
+            return PlayFabEconomyAPI.privateDeleteItemAsync(this, request);
+        } catch(Exception e) {
+            PlayFabResult<DeleteItemResponse> exceptionResult = new PlayFabResult<DeleteItemResponse>();
+            exceptionResult.Error = PlayFabHTTP.GeneratePfError(-1, PlayFabErrorCode.Unknown, e.getMessage(), null, null);
+            return exceptionResult;
+        }
+    }
+
+    /**
+     * Gets the configuration for the catalog.
+     * @param request GetCatalogConfigRequest
+     * @return GetCatalogConfigResponse
+     */
+    public PlayFabResult<GetCatalogConfigResponse> GetCatalogConfig(final GetCatalogConfigRequest request) {
+        try {
+            return PlayFabEconomyAPI.privateGetCatalogConfigAsync(this, request);
+        } catch(Exception e) {
+            PlayFabResult<GetCatalogConfigResponse> exceptionResult = new PlayFabResult<GetCatalogConfigResponse>();
+            exceptionResult.Error = PlayFabHTTP.GeneratePfError(-1, PlayFabErrorCode.Unknown, e.getMessage(), null, null);
+            return exceptionResult;
+        }
+    }
+
+    /**
+     * Retrieves an item from the working catalog. This item represents the current working state of the item.
+     * @param request GetDraftItemRequest
+     * @return GetDraftItemResponse
+     */
+    public PlayFabResult<GetDraftItemResponse> GetDraftItem(final GetDraftItemRequest request) {
+        try {
+            return PlayFabEconomyAPI.privateGetDraftItemAsync(this, request);
+        } catch(Exception e) {
+            PlayFabResult<GetDraftItemResponse> exceptionResult = new PlayFabResult<GetDraftItemResponse>();
+            exceptionResult.Error = PlayFabHTTP.GeneratePfError(-1, PlayFabErrorCode.Unknown, e.getMessage(), null, null);
+            return exceptionResult;
+        }
+    }
+
+    /**
+     * Retrieves a paginated list of the items from the draft catalog.
+     * @param request GetDraftItemsRequest
+     * @return GetDraftItemsResponse
+     */
+    public PlayFabResult<GetDraftItemsResponse> GetDraftItems(final GetDraftItemsRequest request) {
+        try {
+            return PlayFabEconomyAPI.privateGetDraftItemsAsync(this, request);
+        } catch(Exception e) {
+            PlayFabResult<GetDraftItemsResponse> exceptionResult = new PlayFabResult<GetDraftItemsResponse>();
+            exceptionResult.Error = PlayFabHTTP.GeneratePfError(-1, PlayFabErrorCode.Unknown, e.getMessage(), null, null);
+            return exceptionResult;
+        }
+    }
+
+    /**
+     * Retrieves a paginated list of the items from the draft catalog created by the Entity.
+     * @param request GetEntityDraftItemsRequest
+     * @return GetEntityDraftItemsResponse
+     */
+    public PlayFabResult<GetEntityDraftItemsResponse> GetEntityDraftItems(final GetEntityDraftItemsRequest request) {
+        try {
+            return PlayFabEconomyAPI.privateGetEntityDraftItemsAsync(this, request);
+        } catch(Exception e) {
+            PlayFabResult<GetEntityDraftItemsResponse> exceptionResult = new PlayFabResult<GetEntityDraftItemsResponse>();
+            exceptionResult.Error = PlayFabHTTP.GeneratePfError(-1, PlayFabErrorCode.Unknown, e.getMessage(), null, null);
+            return exceptionResult;
+        }
+    }
+
+    /**
+     * Gets the submitted review for the specified item by the authenticated entity.
+     * @param request GetEntityItemReviewRequest
+     * @return GetEntityItemReviewResponse
+     */
+    public PlayFabResult<GetEntityItemReviewResponse> GetEntityItemReview(final GetEntityItemReviewRequest request) {
+        try {
+            return PlayFabEconomyAPI.privateGetEntityItemReviewAsync(this, request);
+        } catch(Exception e) {
+            PlayFabResult<GetEntityItemReviewResponse> exceptionResult = new PlayFabResult<GetEntityItemReviewResponse>();
+            exceptionResult.Error = PlayFabHTTP.GeneratePfError(-1, PlayFabErrorCode.Unknown, e.getMessage(), null, null);
+            return exceptionResult;
+        }
+    }
+
+    /**
+     * Retrieves an item from the public catalog.
+     * @param request GetItemRequest
+     * @return GetItemResponse
+     */
+    public PlayFabResult<GetItemResponse> GetItem(final GetItemRequest request) {
+        try {
+            return PlayFabEconomyAPI.privateGetItemAsync(this, request);
+        } catch(Exception e) {
+            PlayFabResult<GetItemResponse> exceptionResult = new PlayFabResult<GetItemResponse>();
+            exceptionResult.Error = PlayFabHTTP.GeneratePfError(-1, PlayFabErrorCode.Unknown, e.getMessage(), null, null);
+            return exceptionResult;
+        }
+    }
+
+    /**
+     * Gets the moderation state for an item, including the concern category and string reason.
+     * @param request GetItemModerationStateRequest
+     * @return GetItemModerationStateResponse
+     */
+    public PlayFabResult<GetItemModerationStateResponse> GetItemModerationState(final GetItemModerationStateRequest request) {
+        try {
+            return PlayFabEconomyAPI.privateGetItemModerationStateAsync(this, request);
+        } catch(Exception e) {
+            PlayFabResult<GetItemModerationStateResponse> exceptionResult = new PlayFabResult<GetItemModerationStateResponse>();
+            exceptionResult.Error = PlayFabHTTP.GeneratePfError(-1, PlayFabErrorCode.Unknown, e.getMessage(), null, null);
+            return exceptionResult;
+        }
+    }
+
+    /**
+     * Gets the status of a publish of an item.
+     * @param request GetItemPublishStatusRequest
+     * @return GetItemPublishStatusResponse
+     */
+    public PlayFabResult<GetItemPublishStatusResponse> GetItemPublishStatus(final GetItemPublishStatusRequest request) {
+        try {
+            return PlayFabEconomyAPI.privateGetItemPublishStatusAsync(this, request);
+        } catch(Exception e) {
+            PlayFabResult<GetItemPublishStatusResponse> exceptionResult = new PlayFabResult<GetItemPublishStatusResponse>();
+            exceptionResult.Error = PlayFabHTTP.GeneratePfError(-1, PlayFabErrorCode.Unknown, e.getMessage(), null, null);
+            return exceptionResult;
+        }
+    }
+
+    /**
+     * Get a paginated set of reviews associated with the specified item.
+     * @param request GetItemReviewsRequest
+     * @return GetItemReviewsResponse
+     */
+    public PlayFabResult<GetItemReviewsResponse> GetItemReviews(final GetItemReviewsRequest request) {
+        try {
+            return PlayFabEconomyAPI.privateGetItemReviewsAsync(this, request);
+        } catch(Exception e) {
+            PlayFabResult<GetItemReviewsResponse> exceptionResult = new PlayFabResult<GetItemReviewsResponse>();
+            exceptionResult.Error = PlayFabHTTP.GeneratePfError(-1, PlayFabErrorCode.Unknown, e.getMessage(), null, null);
+            return exceptionResult;
+        }
+    }
+
+    /**
+     * Get a summary of all reviews associated with the specified item.
+     * @param request GetItemReviewSummaryRequest
+     * @return GetItemReviewSummaryResponse
+     */
+    public PlayFabResult<GetItemReviewSummaryResponse> GetItemReviewSummary(final GetItemReviewSummaryRequest request) {
+        try {
+            return PlayFabEconomyAPI.privateGetItemReviewSummaryAsync(this, request);
+        } catch(Exception e) {
+            PlayFabResult<GetItemReviewSummaryResponse> exceptionResult = new PlayFabResult<GetItemReviewSummaryResponse>();
+            exceptionResult.Error = PlayFabHTTP.GeneratePfError(-1, PlayFabErrorCode.Unknown, e.getMessage(), null, null);
+            return exceptionResult;
+        }
+    }
+
+    /**
+     * Initiates a publish of an item from the working catalog to the public catalog.
+     * @param request PublishDraftItemRequest
+     * @return PublishDraftItemResponse
+     */
+    public PlayFabResult<PublishDraftItemResponse> PublishDraftItem(final PublishDraftItemRequest request) {
+        try {
+            return PlayFabEconomyAPI.privatePublishDraftItemAsync(this, request);
+        } catch(Exception e) {
+            PlayFabResult<PublishDraftItemResponse> exceptionResult = new PlayFabResult<PublishDraftItemResponse>();
+            exceptionResult.Error = PlayFabHTTP.GeneratePfError(-1, PlayFabErrorCode.Unknown, e.getMessage(), null, null);
+            return exceptionResult;
+        }
+    }
+
+    /**
+     * Submit a report for an item, indicating in what way the item is inappropriate.
+     * @param request ReportItemRequest
+     * @return ReportItemResponse
+     */
+    public PlayFabResult<ReportItemResponse> ReportItem(final ReportItemRequest request) {
+        try {
+            return PlayFabEconomyAPI.privateReportItemAsync(this, request);
+        } catch(Exception e) {
+            PlayFabResult<ReportItemResponse> exceptionResult = new PlayFabResult<ReportItemResponse>();
+            exceptionResult.Error = PlayFabHTTP.GeneratePfError(-1, PlayFabErrorCode.Unknown, e.getMessage(), null, null);
+            return exceptionResult;
+        }
+    }
+
+    /**
+     * Submit a report for a review
+     * @param request ReportItemReviewRequest
+     * @return ReportItemReviewResponse
+     */
+    public PlayFabResult<ReportItemReviewResponse> ReportItemReview(final ReportItemReviewRequest request) {
+        try {
+            return PlayFabEconomyAPI.privateReportItemReviewAsync(this, request);
+        } catch(Exception e) {
+            PlayFabResult<ReportItemReviewResponse> exceptionResult = new PlayFabResult<ReportItemReviewResponse>();
+            exceptionResult.Error = PlayFabHTTP.GeneratePfError(-1, PlayFabErrorCode.Unknown, e.getMessage(), null, null);
+            return exceptionResult;
+        }
+    }
+
+    /**
+     * Creates or updates a review for the specified item.
+     * @param request ReviewItemRequest
+     * @return ReviewItemResponse
+     */
+    public PlayFabResult<ReviewItemResponse> ReviewItem(final ReviewItemRequest request) {
+        try {
+            return PlayFabEconomyAPI.privateReviewItemAsync(this, request);
+        } catch(Exception e) {
+            PlayFabResult<ReviewItemResponse> exceptionResult = new PlayFabResult<ReviewItemResponse>();
+            exceptionResult.Error = PlayFabHTTP.GeneratePfError(-1, PlayFabErrorCode.Unknown, e.getMessage(), null, null);
+            return exceptionResult;
+        }
+    }
+
+    /**
+     * Executes a search against the public catalog using the provided search parameters and returns a set of paginated
+     * results.
+     * @param request SearchItemsRequest
+     * @return SearchItemsResponse
+     */
+    public PlayFabResult<SearchItemsResponse> SearchItems(final SearchItemsRequest request) {
+        try {
+            return PlayFabEconomyAPI.privateSearchItemsAsync(this, request);
+        } catch(Exception e) {
+            PlayFabResult<SearchItemsResponse> exceptionResult = new PlayFabResult<SearchItemsResponse>();
+            exceptionResult.Error = PlayFabHTTP.GeneratePfError(-1, PlayFabErrorCode.Unknown, e.getMessage(), null, null);
+            return exceptionResult;
+        }
+    }
+
+    /**
+     * Sets the moderation state for an item, including the concern category and string reason.
+     * @param request SetItemModerationStateRequest
+     * @return SetItemModerationStateResponse
+     */
+    public PlayFabResult<SetItemModerationStateResponse> SetItemModerationState(final SetItemModerationStateRequest request) {
+        try {
+            return PlayFabEconomyAPI.privateSetItemModerationStateAsync(this, request);
+        } catch(Exception e) {
+            PlayFabResult<SetItemModerationStateResponse> exceptionResult = new PlayFabResult<SetItemModerationStateResponse>();
+            exceptionResult.Error = PlayFabHTTP.GeneratePfError(-1, PlayFabErrorCode.Unknown, e.getMessage(), null, null);
+            return exceptionResult;
+        }
+    }
+
+    /**
+     * Submit a vote for a review, indicating whether the review was helpful or unhelpful.
+     * @param request SubmitItemReviewVoteRequest
+     * @return SubmitItemReviewVoteResponse
+     */
+    public PlayFabResult<SubmitItemReviewVoteResponse> SubmitItemReviewVote(final SubmitItemReviewVoteRequest request) {
+        try {
+            return PlayFabEconomyAPI.privateSubmitItemReviewVoteAsync(this, request);
+        } catch(Exception e) {
+            PlayFabResult<SubmitItemReviewVoteResponse> exceptionResult = new PlayFabResult<SubmitItemReviewVoteResponse>();
+            exceptionResult.Error = PlayFabHTTP.GeneratePfError(-1, PlayFabErrorCode.Unknown, e.getMessage(), null, null);
+            return exceptionResult;
+        }
+    }
+
+    /**
+     * Submit a request to takedown one or more reviews.
+     * @param request TakedownItemReviewsRequest
+     * @return TakedownItemReviewsResponse
+     */
+    public PlayFabResult<TakedownItemReviewsResponse> TakedownItemReviews(final TakedownItemReviewsRequest request) {
+        try {
+            return PlayFabEconomyAPI.privateTakedownItemReviewsAsync(this, request);
+        } catch(Exception e) {
+            PlayFabResult<TakedownItemReviewsResponse> exceptionResult = new PlayFabResult<TakedownItemReviewsResponse>();
+            exceptionResult.Error = PlayFabHTTP.GeneratePfError(-1, PlayFabErrorCode.Unknown, e.getMessage(), null, null);
+            return exceptionResult;
+        }
+    }
+
+    /**
+     * Updates the configuration for the catalog.
+     * @param request UpdateCatalogConfigRequest
+     * @return UpdateCatalogConfigResponse
+     */
+    public PlayFabResult<UpdateCatalogConfigResponse> UpdateCatalogConfig(final UpdateCatalogConfigRequest request) {
+        try {
+            return PlayFabEconomyAPI.privateUpdateCatalogConfigAsync(this, request);
+        } catch(Exception e) {
+            PlayFabResult<UpdateCatalogConfigResponse> exceptionResult = new PlayFabResult<UpdateCatalogConfigResponse>();
+            exceptionResult.Error = PlayFabHTTP.GeneratePfError(-1, PlayFabErrorCode.Unknown, e.getMessage(), null, null);
+            return exceptionResult;
+        }
+    }
+
+    /**
+     * Update the metadata for an item in the working catalog.
+     * @param request UpdateDraftItemRequest
+     * @return UpdateDraftItemResponse
+     */
+    public PlayFabResult<UpdateDraftItemResponse> UpdateDraftItem(final UpdateDraftItemRequest request) {
+        try {
+            return PlayFabEconomyAPI.privateUpdateDraftItemAsync(this, request);
+        } catch(Exception e) {
+            PlayFabResult<UpdateDraftItemResponse> exceptionResult = new PlayFabResult<UpdateDraftItemResponse>();
+            exceptionResult.Error = PlayFabHTTP.GeneratePfError(-1, PlayFabErrorCode.Unknown, e.getMessage(), null, null);
+            return exceptionResult;
+        }
+    }
+
+    /**
+     * @return Non-blocking versions of every call, made with this object's context and started on PlayFabSettings.AsyncExecutor
+     */
+    public Async async() {
+        return async;
+    }
+
+    /**
+     * Non-blocking versions of the PlayFabEconomyInstanceAPI calls. Each call is already running when its PlayFabFuture is returned.
+     */
+    public class Async {
+        private Async() {
+        }
+
+        /**
+         * Creates a new item in the working catalog using provided metadata.
+         * @param request CreateDraftItemRequest
+         * @return Running future that will complete with CreateDraftItemResponse
+         */
+        public PlayFabFuture<PlayFabResult<CreateDraftItemResponse>> CreateDraftItem(final CreateDraftItemRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<CreateDraftItemResponse>>() {
+                public PlayFabResult<CreateDraftItemResponse> call() throws Exception {
+                    return PlayFabEconomyAPI.privateCreateDraftItemAsync(PlayFabEconomyInstanceAPI.this, request);
+                }
+            });
+        }
+
+        /**
+         * Creates one or more upload URLs which can be used by the client to upload raw file data.
+         * @param request CreateUploadUrlsRequest
+         * @return Running future that will complete with CreateUploadUrlsResponse
+         */
+        public PlayFabFuture<PlayFabResult<CreateUploadUrlsResponse>> CreateUploadUrls(final CreateUploadUrlsRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<CreateUploadUrlsResponse>>() {
+                public PlayFabResult<CreateUploadUrlsResponse> call() throws Exception {
+                    return PlayFabEconomyAPI.privateCreateUploadUrlsAsync(PlayFabEconomyInstanceAPI.this, request);
+                }
+            });
+        }
+
+        /**
+         * Deletes all reviews, helpfulness votes, and ratings submitted by the entity specified.
+         * @param request DeleteEntityItemReviewsRequest
+         * @return Running future that will complete with DeleteEntityItemReviewsResponse
+         */
+        public PlayFabFuture<PlayFabResult<DeleteEntityItemReviewsResponse>> DeleteEntityItemReviews(final DeleteEntityItemReviewsRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<DeleteEntityItemReviewsResponse>>() {
+                public PlayFabResult<DeleteEntityItemReviewsResponse> call() throws Exception {
+                    return PlayFabEconomyAPI.privateDeleteEntityItemReviewsAsync(PlayFabEconomyInstanceAPI.this, request);
+                }
+            });
+        }
+
+        /**
+         * Removes an item from working catalog and all published versions from the public catalog.
+         * @param request DeleteItemRequest
+         * @return Running future that will complete with DeleteItemResponse
+         */
+        public PlayFabFuture<PlayFabResult<DeleteItemResponse>> DeleteItem(final DeleteItemRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<DeleteItemResponse>>() {
+                public PlayFabResult<DeleteItemResponse> call() throws Exception {
+                    return PlayFabEconomyAPI.privateDeleteItemAsync(PlayFabEconomyInstanceAPI.this, request);
+                }
+            });
+        }
+
+        /**
+         * Gets the configuration for the catalog.
+         * @param request GetCatalogConfigRequest
+         * @return Running future that will complete with GetCatalogConfigResponse
+         */
+        public PlayFabFuture<PlayFabResult<GetCatalogConfigResponse>> GetCatalogConfig(final GetCatalogConfigRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<GetCatalogConfigResponse>>() {
+                public PlayFabResult<GetCatalogConfigResponse> call() throws Exception {
+                    return PlayFabEconomyAPI.privateGetCatalogConfigAsync(PlayFabEconomyInstanceAPI.this, request);
+                }
+            });
+        }
+
+        /**
+         * Retrieves an item from the working catalog. This item represents the current working state of the item.
+         * @param request GetDraftItemRequest
+         * @return Running future that will complete with GetDraftItemResponse
+         */
+        public PlayFabFuture<PlayFabResult<GetDraftItemResponse>> GetDraftItem(final GetDraftItemRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<GetDraftItemResponse>>() {
+                public PlayFabResult<GetDraftItemResponse> call() throws Exception {
+                    return PlayFabEconomyAPI.privateGetDraftItemAsync(PlayFabEconomyInstanceAPI.this, request);
+                }
+            });
+        }
+
+        /**
+         * Retrieves a paginated list of the items from the draft catalog.
+         * @param request GetDraftItemsRequest
+         * @return Running future that will complete with GetDraftItemsResponse
+         */
+        public PlayFabFuture<PlayFabResult<GetDraftItemsResponse>> GetDraftItems(final GetDraftItemsRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<GetDraftItemsResponse>>() {
+                public PlayFabResult<GetDraftItemsResponse> call() throws Exception {
+                    return PlayFabEconomyAPI.privateGetDraftItemsAsync(PlayFabEconomyInstanceAPI.this, request);
+                }
+            });
+        }
+
+        /**
+         * Retrieves a paginated list of the items from the draft catalog created by the Entity.
+         * @param request GetEntityDraftItemsRequest
+         * @return Running future that will complete with GetEntityDraftItemsResponse
+         */
+        public PlayFabFuture<PlayFabResult<GetEntityDraftItemsResponse>> GetEntityDraftItems(final GetEntityDraftItemsRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<GetEntityDraftItemsResponse>>() {
+                public PlayFabResult<GetEntityDraftItemsResponse> call() throws Exception {
+                    return PlayFabEconomyAPI.privateGetEntityDraftItemsAsync(PlayFabEconomyInstanceAPI.this, request);
+                }
+            });
+        }
+
+        /**
+         * Gets the submitted review for the specified item by the authenticated entity.
+         * @param request GetEntityItemReviewRequest
+         * @return Running future that will complete with GetEntityItemReviewResponse
+         */
+        public PlayFabFuture<PlayFabResult<GetEntityItemReviewResponse>> GetEntityItemReview(final GetEntityItemReviewRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<GetEntityItemReviewResponse>>() {
+                public PlayFabResult<GetEntityItemReviewResponse> call() throws Exception {
+                    return PlayFabEconomyAPI.privateGetEntityItemReviewAsync(PlayFabEconomyInstanceAPI.this, request);
+                }
+            });
+        }
+
+        /**
+         * Retrieves an item from the public catalog.
+         * @param request GetItemRequest
+         * @return Running future that will complete with GetItemResponse
+         */
+        public PlayFabFuture<PlayFabResult<GetItemResponse>> GetItem(final GetItemRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<GetItemResponse>>() {
+                public PlayFabResult<GetItemResponse> call() throws Exception {
+                    return PlayFabEconomyAPI.privateGetItemAsync(PlayFabEconomyInstanceAPI.this, request);
+                }
+            });
+        }
+
+        /**
+         * Gets the moderation state for an item, including the concern category and string reason.
+         * @param request GetItemModerationStateRequest
+         * @return Running future that will complete with GetItemModerationStateResponse
+         */
+        public PlayFabFuture<PlayFabResult<GetItemModerationStateResponse>> GetItemModerationState(final GetItemModerationStateRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<GetItemModerationStateResponse>>() {
+                public PlayFabResult<GetItemModerationStateResponse> call() throws Exception {
+                    return PlayFabEconomyAPI.privateGetItemModerationStateAsync(PlayFabEconomyInstanceAPI.this, request);
+                }
+            });
+        }
+
+        /**
+         * Gets the status of a publish of an item.
+         * @param request GetItemPublishStatusRequest
+         * @return Running future that will complete with GetItemPublishStatusResponse
+         */
+        public PlayFabFuture<PlayFabResult<GetItemPublishStatusResponse>> GetItemPublishStatus(final GetItemPublishStatusRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<GetItemPublishStatusResponse>>() {
+                public PlayFabResult<GetItemPublishStatusResponse> call() throws Exception {
+                    return PlayFabEconomyAPI.privateGetItemPublishStatusAsync(PlayFabEconomyInstanceAPI.this, request);
+                }
+            });
+        }
+
+        /**
+         * Get a paginated set of reviews associated with the specified item.
+         * @param request GetItemReviewsRequest
+         * @return Running future that will complete with GetItemReviewsResponse
+         */
+        public PlayFabFuture<PlayFabResult<GetItemReviewsResponse>> GetItemReviews(final GetItemReviewsRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<GetItemReviewsResponse>>() {
+                public PlayFabResult<GetItemReviewsResponse> call() throws Exception {
+                    return PlayFabEconomyAPI.privateGetItemReviewsAsync(PlayFabEconomyInstanceAPI.this, request);
+                }
+            });
+        }
+
+        /**
+         * Get a summary of all reviews associated with the specified item.
+         * @param request GetItemReviewSummaryRequest
+         * @return Running future that will complete with GetItemReviewSummaryResponse
+         */
+        public PlayFabFuture<PlayFabResult<GetItemReviewSummaryResponse>> GetItemReviewSummary(final GetItemReviewSummaryRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<GetItemReviewSummaryResponse>>() {
+                public PlayFabResult<GetItemReviewSummaryResponse> call() throws Exception {
+                    return PlayFabEconomyAPI.privateGetItemReviewSummaryAsync(PlayFabEconomyInstanceAPI.this, request);
+                }
+            });
+        }
+
+        /**
+         * Initiates a publish of an item from the working catalog to the public catalog.
+         * @param request PublishDraftItemRequest
+         * @return Running future that will complete with PublishDraftItemResponse
+         */
+        public PlayFabFuture<PlayFabResult<PublishDraftItemResponse>> PublishDraftItem(final PublishDraftItemRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<PublishDraftItemResponse>>() {
+                public PlayFabResult<PublishDraftItemResponse> call() throws Exception {
+                    return PlayFabEconomyAPI.privatePublishDraftItemAsync(PlayFabEconomyInstanceAPI.this, request);
+                }
+            });
+        }
+
+        /**
+         * Submit a report for an item, indicating in what way the item is inappropriate.
+         * @param request ReportItemRequest
+         * @return Running future that will complete with ReportItemResponse
+         */
+        public PlayFabFuture<PlayFabResult<ReportItemResponse>> ReportItem(final ReportItemRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<ReportItemResponse>>() {
+                public PlayFabResult<ReportItemResponse> call() throws Exception {
+                    return PlayFabEconomyAPI.privateReportItemAsync(PlayFabEconomyInstanceAPI.this, request);
+                }
+            });
+        }
+
+        /**
+         * Submit a report for a review
+         * @param request ReportItemReviewRequest
+         * @return Running future that will complete with ReportItemReviewResponse
+         */
+        public PlayFabFuture<PlayFabResult<ReportItemReviewResponse>> ReportItemReview(final ReportItemReviewRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<ReportItemReviewResponse>>() {
+                public PlayFabResult<ReportItemReviewResponse> call() throws Exception {
+                    return PlayFabEconomyAPI.privateReportItemReviewAsync(PlayFabEconomyInstanceAPI.this, request);
+                }
+            });
+        }
+
+        /**
+         * Creates or updates a review for the specified item.
+         * @param request ReviewItemRequest
+         * @return Running future that will complete with ReviewItemResponse
+         */
+        public PlayFabFuture<PlayFabResult<ReviewItemResponse>> ReviewItem(final ReviewItemRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<ReviewItemResponse>>() {
+                public PlayFabResult<ReviewItemResponse> call() throws Exception {
+                    return PlayFabEconomyAPI.privateReviewItemAsync(PlayFabEconomyInstanceAPI.this, request);
+                }
+            });
+        }
+
+        /**
+         * Executes a search against the public catalog using the provided search parameters and returns a set of paginated
+         * results.
+         * @param request SearchItemsRequest
+         * @return Running future that will complete with SearchItemsResponse
+         */
+        public PlayFabFuture<PlayFabResult<SearchItemsResponse>> SearchItems(final SearchItemsRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<SearchItemsResponse>>() {
+                public PlayFabResult<SearchItemsResponse> call() throws Exception {
+                    return PlayFabEconomyAPI.privateSearchItemsAsync(PlayFabEconomyInstanceAPI.this, request);
+                }
+            });
+        }
+
+        /**
+         * Sets the moderation state for an item, including the concern category and string reason.
+         * @param request SetItemModerationStateRequest
+         * @return Running future that will complete with SetItemModerationStateResponse
+         */
+        public PlayFabFuture<PlayFabResult<SetItemModerationStateResponse>> SetItemModerationState(final SetItemModerationStateRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<SetItemModerationStateResponse>>() {
+                public PlayFabResult<SetItemModerationStateResponse> call() throws Exception {
+                    return PlayFabEconomyAPI.privateSetItemModerationStateAsync(PlayFabEconomyInstanceAPI.this, request);
+                }
+            });
+        }
+
+        /**
+         * Submit a vote for a review, indicating whether the review was helpful or unhelpful.
+         * @param request SubmitItemReviewVoteRequest
+         * @return Running future that will complete with SubmitItemReviewVoteResponse
+         */
+        public PlayFabFuture<PlayFabResult<SubmitItemReviewVoteResponse>> SubmitItemReviewVote(final SubmitItemReviewVoteRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<SubmitItemReviewVoteResponse>>() {
+                public PlayFabResult<SubmitItemReviewVoteResponse> call() throws Exception {
+                    return PlayFabEconomyAPI.privateSubmitItemReviewVoteAsync(PlayFabEconomyInstanceAPI.this, request);
+                }
+            });
+        }
+
+        /**
+         * Submit a request to takedown one or more reviews.
+         * @param request TakedownItemReviewsRequest
+         * @return Running future that will complete with TakedownItemReviewsResponse
+         */
+        public PlayFabFuture<PlayFabResult<TakedownItemReviewsResponse>> TakedownItemReviews(final TakedownItemReviewsRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<TakedownItemReviewsResponse>>() {
+                public PlayFabResult<TakedownItemReviewsResponse> call() throws Exception {
+                    return PlayFabEconomyAPI.privateTakedownItemReviewsAsync(PlayFabEconomyInstanceAPI.this, request);
+                }
+            });
+        }
+
+        /**
+         * Updates the configuration for the catalog.
+         * @param request UpdateCatalogConfigRequest
+         * @return Running future that will complete with UpdateCatalogConfigResponse
+         */
+        public PlayFabFuture<PlayFabResult<UpdateCatalogConfigResponse>> UpdateCatalogConfig(final UpdateCatalogConfigRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<UpdateCatalogConfigResponse>>() {
+                public PlayFabResult<UpdateCatalogConfigResponse> call() throws Exception {
+                    return PlayFabEconomyAPI.privateUpdateCatalogConfigAsync(PlayFabEconomyInstanceAPI.this, request);
+                }
+            });
+        }
+
+        /**
+         * Update the metadata for an item in the working catalog.
+         * @param request UpdateDraftItemRequest
+         * @return Running future that will complete with UpdateDraftItemResponse
+         */
+        public PlayFabFuture<PlayFabResult<UpdateDraftItemResponse>> UpdateDraftItem(final UpdateDraftItemRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<UpdateDraftItemResponse>>() {
+                public PlayFabResult<UpdateDraftItemResponse> call() throws Exception {
+                    return PlayFabEconomyAPI.privateUpdateDraftItemAsync(PlayFabEconomyInstanceAPI.this, request);
+                }
+            });
+        }
+    }
+}
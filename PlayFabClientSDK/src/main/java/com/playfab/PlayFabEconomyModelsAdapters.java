@@ -0,0 +1,3031 @@
+package com.playfab;
+
+import java.io.IOException;
+import java.util.Date;
+import com.google.gson.*;
+import com.google.gson.reflect.TypeToken;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
+import com.playfab.PlayFabEconomyModels.*;
+import com.playfab.internal.PlayFabJson;
+
+/**
+ * Streaming TypeAdapters for every class in PlayFabEconomyModels, so models are read and written without field reflection.
+ * PlayFabJson finds FACTORY through this class name. Enums keep Gson's own adapters, which do no per-call reflection.
+ * Generated from PlayFabEconomyModels by PlayFabModelAdaptersGenerator, in the PlayFabSDK tests: regenerate rather than edit.
+ */
+public class PlayFabEconomyModelsAdapters {
+    public static final TypeAdapterFactory FACTORY = new TypeAdapterFactory() {
+        @SuppressWarnings("unchecked")
+        public <T> TypeAdapter<T> create(Gson gson, TypeToken<T> type) {
+            Class<?> raw = type.getRawType();
+            if (raw.getDeclaringClass() != PlayFabEconomyModels.class)
+                return null;
+            switch (raw.getSimpleName()) {
+                case "CatalogAlternateId": return (TypeAdapter<T>) new CatalogAlternateIdAdapter(gson);
+                case "CatalogConfig": return (TypeAdapter<T>) new CatalogConfigAdapter(gson);
+                case "CatalogItem": return (TypeAdapter<T>) new CatalogItemAdapter(gson);
+                case "Content": return (TypeAdapter<T>) new ContentAdapter(gson);
+                case "CreateDraftItemRequest": return (TypeAdapter<T>) new CreateDraftItemRequestAdapter(gson);
+                case "CreateDraftItemResponse": return (TypeAdapter<T>) new CreateDraftItemResponseAdapter(gson);
+                case "CreateUploadUrlsRequest": return (TypeAdapter<T>) new CreateUploadUrlsRequestAdapter(gson);
+                case "CreateUploadUrlsResponse": return (TypeAdapter<T>) new CreateUploadUrlsResponseAdapter(gson);
+                case "DeleteEntityItemReviewsRequest": return (TypeAdapter<T>) new DeleteEntityItemReviewsRequestAdapter(gson);
+                case "DeleteEntityItemReviewsResponse": return (TypeAdapter<T>) new DeleteEntityItemReviewsResponseAdapter(gson);
+                case "DeleteItemRequest": return (TypeAdapter<T>) new DeleteItemRequestAdapter(gson);
+                case "DeleteItemResponse": return (TypeAdapter<T>) new DeleteItemResponseAdapter(gson);
+                case "DisplayPropertyIndexInfo": return (TypeAdapter<T>) new DisplayPropertyIndexInfoAdapter(gson);
+                case "EntityKey": return (TypeAdapter<T>) new EntityKeyAdapter(gson);
+                case "GetCatalogConfigRequest": return (TypeAdapter<T>) new GetCatalogConfigRequestAdapter(gson);
+                case "GetCatalogConfigResponse": return (TypeAdapter<T>) new GetCatalogConfigResponseAdapter(gson);
+                case "GetDraftItemRequest": return (TypeAdapter<T>) new GetDraftItemRequestAdapter(gson);
+                case "GetDraftItemResponse": return (TypeAdapter<T>) new GetDraftItemResponseAdapter(gson);
+                case "GetDraftItemsRequest": return (TypeAdapter<T>) new GetDraftItemsRequestAdapter(gson);
+                case "GetDraftItemsResponse": return (TypeAdapter<T>) new GetDraftItemsResponseAdapter(gson);
+                case "GetEntityDraftItemsRequest": return (TypeAdapter<T>) new GetEntityDraftItemsRequestAdapter(gson);
+                case "GetEntityDraftItemsResponse": return (TypeAdapter<T>) new GetEntityDraftItemsResponseAdapter(gson);
+                case "GetEntityItemReviewRequest": return (TypeAdapter<T>) new GetEntityItemReviewRequestAdapter(gson);
+                case "GetEntityItemReviewResponse": return (TypeAdapter<T>) new GetEntityItemReviewResponseAdapter(gson);
+                case "GetItemModerationStateRequest": return (TypeAdapter<T>) new GetItemModerationStateRequestAdapter(gson);
+                case "GetItemModerationStateResponse": return (TypeAdapter<T>) new GetItemModerationStateResponseAdapter(gson);
+                case "GetItemPublishStatusRequest": return (TypeAdapter<T>) new GetItemPublishStatusRequestAdapter(gson);
+                case "GetItemPublishStatusResponse": return (TypeAdapter<T>) new GetItemPublishStatusResponseAdapter(gson);
+                case "GetItemRequest": return (TypeAdapter<T>) new GetItemRequestAdapter(gson);
+                case "GetItemResponse": return (TypeAdapter<T>) new GetItemResponseAdapter(gson);
+                case "GetItemReviewsRequest": return (TypeAdapter<T>) new GetItemReviewsRequestAdapter(gson);
+                case "GetItemReviewsResponse": return (TypeAdapter<T>) new GetItemReviewsResponseAdapter(gson);
+                case "GetItemReviewSummaryRequest": return (TypeAdapter<T>) new GetItemReviewSummaryRequestAdapter(gson);
+                case "GetItemReviewSummaryResponse": return (TypeAdapter<T>) new GetItemReviewSummaryResponseAdapter(gson);
+                case "Image": return (TypeAdapter<T>) new ImageAdapter(gson);
+                case "KeywordSet": return (TypeAdapter<T>) new KeywordSetAdapter(gson);
+                case "ModerationState": return (TypeAdapter<T>) new ModerationStateAdapter(gson);
+                case "PublishDraftItemRequest": return (TypeAdapter<T>) new PublishDraftItemRequestAdapter(gson);
+                case "PublishDraftItemResponse": return (TypeAdapter<T>) new PublishDraftItemResponseAdapter(gson);
+                case "Rating": return (TypeAdapter<T>) new RatingAdapter(gson);
+                case "ReportItemRequest": return (TypeAdapter<T>) new ReportItemRequestAdapter(gson);
+                case "ReportItemResponse": return (TypeAdapter<T>) new ReportItemResponseAdapter(gson);
+                case "ReportItemReviewRequest": return (TypeAdapter<T>) new ReportItemReviewRequestAdapter(gson);
+                case "ReportItemReviewResponse": return (TypeAdapter<T>) new ReportItemReviewResponseAdapter(gson);
+                case "Review": return (TypeAdapter<T>) new ReviewAdapter(gson);
+                case "ReviewItemRequest": return (TypeAdapter<T>) new ReviewItemRequestAdapter(gson);
+                case "ReviewItemResponse": return (TypeAdapter<T>) new ReviewItemResponseAdapter(gson);
+                case "ReviewTakedown": return (TypeAdapter<T>) new ReviewTakedownAdapter(gson);
+                case "ScanResult": return (TypeAdapter<T>) new ScanResultAdapter(gson);
+                case "SearchItemsRequest": return (TypeAdapter<T>) new SearchItemsRequestAdapter(gson);
+                case "SearchItemsResponse": return (TypeAdapter<T>) new SearchItemsResponseAdapter(gson);
+                case "SetItemModerationStateRequest": return (TypeAdapter<T>) new SetItemModerationStateRequestAdapter(gson);
+                case "SetItemModerationStateResponse": return (TypeAdapter<T>) new SetItemModerationStateResponseAdapter(gson);
+                case "SubmitItemReviewVoteRequest": return (TypeAdapter<T>) new SubmitItemReviewVoteRequestAdapter(gson);
+                case "SubmitItemReviewVoteResponse": return (TypeAdapter<T>) new SubmitItemReviewVoteResponseAdapter(gson);
+                case "TakedownItemReviewsRequest": return (TypeAdapter<T>) new TakedownItemReviewsRequestAdapter(gson);
+                case "TakedownItemReviewsResponse": return (TypeAdapter<T>) new TakedownItemReviewsResponseAdapter(gson);
+                case "UpdateCatalogConfigRequest": return (TypeAdapter<T>) new UpdateCatalogConfigRequestAdapter(gson);
+                case "UpdateCatalogConfigResponse": return (TypeAdapter<T>) new UpdateCatalogConfigResponseAdapter(gson);
+                case "UpdateDraftItemRequest": return (TypeAdapter<T>) new UpdateDraftItemRequestAdapter(gson);
+                case "UpdateDraftItemResponse": return (TypeAdapter<T>) new UpdateDraftItemResponseAdapter(gson);
+                case "UploadInfo": return (TypeAdapter<T>) new UploadInfoAdapter(gson);
+                case "UploadUrlMetadata": return (TypeAdapter<T>) new UploadUrlMetadataAdapter(gson);
+                case "UserGeneratedContentSpecificConfig": return (TypeAdapter<T>) new UserGeneratedContentSpecificConfigAdapter(gson);
+                default: return null;
+            }
+        }
+    };
+
+    private static class CatalogAlternateIdAdapter extends TypeAdapter<CatalogAlternateId> {
+        private CatalogAlternateIdAdapter(Gson gson) {
+        }
+
+        @Override
+        public void write(JsonWriter out, CatalogAlternateId value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.name("Type").value(value.Type);
+            out.name("Value").value(value.Value);
+            out.endObject();
+        }
+
+        @Override
+        public CatalogAlternateId read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            CatalogAlternateId value = new CatalogAlternateId();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "Type": value.Type = PlayFabJson.readString(in); break;
+                        case "Value": value.Value = PlayFabJson.readString(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class CatalogConfigAdapter extends TypeAdapter<CatalogConfig> {
+        private final TypeAdapter<EntityKey> entityKeyAdapter;
+        private final TypeAdapter<DisplayPropertyIndexInfo> displayPropertyIndexInfoAdapter;
+        private final TypeAdapter<UserGeneratedContentSpecificConfig> userGeneratedContentSpecificConfigAdapter;
+
+        private CatalogConfigAdapter(Gson gson) {
+            entityKeyAdapter = gson.getAdapter(EntityKey.class);
+            displayPropertyIndexInfoAdapter = gson.getAdapter(DisplayPropertyIndexInfo.class);
+            userGeneratedContentSpecificConfigAdapter = gson.getAdapter(UserGeneratedContentSpecificConfig.class);
+        }
+
+        @Override
+        public void write(JsonWriter out, CatalogConfig value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            PlayFabJson.writeList(out.name("AdminEntities"), value.AdminEntities, entityKeyAdapter);
+            PlayFabJson.writeList(out.name("DisplayPropertyIndexInfos"), value.DisplayPropertyIndexInfos, displayPropertyIndexInfoAdapter);
+            out.name("IsCatalogEnabled").value(value.IsCatalogEnabled);
+            PlayFabJson.writeList(out.name("ReviewerEntities"), value.ReviewerEntities, entityKeyAdapter);
+            userGeneratedContentSpecificConfigAdapter.write(out.name("UserGeneratedContent"), value.UserGeneratedContent);
+            out.endObject();
+        }
+
+        @Override
+        public CatalogConfig read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            CatalogConfig value = new CatalogConfig();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "AdminEntities": value.AdminEntities = PlayFabJson.readList(in, entityKeyAdapter); break;
+                        case "DisplayPropertyIndexInfos": value.DisplayPropertyIndexInfos = PlayFabJson.readList(in, displayPropertyIndexInfoAdapter); break;
+                        case "IsCatalogEnabled": value.IsCatalogEnabled = PlayFabJson.readBoolean(in); break;
+                        case "ReviewerEntities": value.ReviewerEntities = PlayFabJson.readList(in, entityKeyAdapter); break;
+                        case "UserGeneratedContent": value.UserGeneratedContent = userGeneratedContentSpecificConfigAdapter.read(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class CatalogItemAdapter extends TypeAdapter<CatalogItem> {
+        private final TypeAdapter<CatalogAlternateId> catalogAlternateIdAdapter;
+        private final TypeAdapter<Content> contentAdapter;
+        private final TypeAdapter<Date> dateAdapter;
+        private final TypeAdapter<EntityKey> entityKeyAdapter;
+        private final TypeAdapter<String> stringAdapter;
+        private final TypeAdapter<Object> objectAdapter;
+        private final TypeAdapter<Image> imageAdapter;
+        private final TypeAdapter<KeywordSet> keywordSetAdapter;
+        private final TypeAdapter<ModerationState> moderationStateAdapter;
+        private final TypeAdapter<Rating> ratingAdapter;
+
+        private CatalogItemAdapter(Gson gson) {
+            catalogAlternateIdAdapter = gson.getAdapter(CatalogAlternateId.class);
+            contentAdapter = gson.getAdapter(Content.class);
+            dateAdapter = gson.getAdapter(Date.class);
+            entityKeyAdapter = gson.getAdapter(EntityKey.class);
+            stringAdapter = gson.getAdapter(String.class);
+            objectAdapter = gson.getAdapter(Object.class);
+            imageAdapter = gson.getAdapter(Image.class);
+            keywordSetAdapter = gson.getAdapter(KeywordSet.class);
+            moderationStateAdapter = gson.getAdapter(ModerationState.class);
+            ratingAdapter = gson.getAdapter(Rating.class);
+        }
+
+        @Override
+        public void write(JsonWriter out, CatalogItem value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            PlayFabJson.writeList(out.name("AlternateIds"), value.AlternateIds, catalogAlternateIdAdapter);
+            PlayFabJson.writeList(out.name("Contents"), value.Contents, contentAdapter);
+            out.name("ContentType").value(value.ContentType);
+            dateAdapter.write(out.name("CreationDate"), value.CreationDate);
+            entityKeyAdapter.write(out.name("CreatorEntity"), value.CreatorEntity);
+            PlayFabJson.writeMap(out.name("Description"), value.Description, stringAdapter);
+            objectAdapter.write(out.name("DisplayProperties"), value.DisplayProperties);
+            out.name("DisplayVersion").value(value.DisplayVersion);
+            dateAdapter.write(out.name("EndDate"), value.EndDate);
+            out.name("ETag").value(value.ETag);
+            out.name("Id").value(value.Id);
+            PlayFabJson.writeList(out.name("Images"), value.Images, imageAdapter);
+            out.name("IsHidden").value(value.IsHidden);
+            PlayFabJson.writeMap(out.name("Keywords"), value.Keywords, keywordSetAdapter);
+            dateAdapter.write(out.name("LastModifiedDate"), value.LastModifiedDate);
+            moderationStateAdapter.write(out.name("Moderation"), value.Moderation);
+            ratingAdapter.write(out.name("Rating"), value.Rating);
+            dateAdapter.write(out.name("StartDate"), value.StartDate);
+            PlayFabJson.writeList(out.name("Tags"), value.Tags, stringAdapter);
+            PlayFabJson.writeMap(out.name("Title"), value.Title, stringAdapter);
+            out.name("Type").value(value.Type);
+            out.endObject();
+        }
+
+        @Override
+        public CatalogItem read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            CatalogItem value = new CatalogItem();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "AlternateIds": value.AlternateIds = PlayFabJson.readList(in, catalogAlternateIdAdapter); break;
+                        case "Contents": value.Contents = PlayFabJson.readList(in, contentAdapter); break;
+                        case "ContentType": value.ContentType = PlayFabJson.readString(in); break;
+                        case "CreationDate": value.CreationDate = dateAdapter.read(in); break;
+                        case "CreatorEntity": value.CreatorEntity = entityKeyAdapter.read(in); break;
+                        case "Description": value.Description = PlayFabJson.readMap(in, stringAdapter); break;
+                        case "DisplayProperties": value.DisplayProperties = objectAdapter.read(in); break;
+                        case "DisplayVersion": value.DisplayVersion = PlayFabJson.readString(in); break;
+                        case "EndDate": value.EndDate = dateAdapter.read(in); break;
+                        case "ETag": value.ETag = PlayFabJson.readString(in); break;
+                        case "Id": value.Id = PlayFabJson.readString(in); break;
+                        case "Images": value.Images = PlayFabJson.readList(in, imageAdapter); break;
+                        case "IsHidden": value.IsHidden = PlayFabJson.readBoolean(in); break;
+                        case "Keywords": value.Keywords = PlayFabJson.readMap(in, keywordSetAdapter); break;
+                        case "LastModifiedDate": value.LastModifiedDate = dateAdapter.read(in); break;
+                        case "Moderation": value.Moderation = moderationStateAdapter.read(in); break;
+                        case "Rating": value.Rating = ratingAdapter.read(in); break;
+                        case "StartDate": value.StartDate = dateAdapter.read(in); break;
+                        case "Tags": value.Tags = PlayFabJson.readList(in, stringAdapter); break;
+                        case "Title": value.Title = PlayFabJson.readMap(in, stringAdapter); break;
+                        case "Type": value.Type = PlayFabJson.readString(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class ContentAdapter extends TypeAdapter<Content> {
+        private ContentAdapter(Gson gson) {
+        }
+
+        @Override
+        public void write(JsonWriter out, Content value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.name("Id").value(value.Id);
+            out.name("MaxClientVersion").value(value.MaxClientVersion);
+            out.name("MinClientVersion").value(value.MinClientVersion);
+            out.name("Url").value(value.Url);
+            out.endObject();
+        }
+
+        @Override
+        public Content read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            Content value = new Content();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "Id": value.Id = PlayFabJson.readString(in); break;
+                        case "MaxClientVersion": value.MaxClientVersion = PlayFabJson.readString(in); break;
+                        case "MinClientVersion": value.MinClientVersion = PlayFabJson.readString(in); break;
+                        case "Url": value.Url = PlayFabJson.readString(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class CreateDraftItemRequestAdapter extends TypeAdapter<CreateDraftItemRequest> {
+        private final TypeAdapter<String> stringAdapter;
+        private final TypeAdapter<CatalogItem> catalogItemAdapter;
+
+        private CreateDraftItemRequestAdapter(Gson gson) {
+            stringAdapter = gson.getAdapter(String.class);
+            catalogItemAdapter = gson.getAdapter(CatalogItem.class);
+        }
+
+        @Override
+        public void write(JsonWriter out, CreateDraftItemRequest value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            PlayFabJson.writeMap(out.name("CustomTags"), value.CustomTags, stringAdapter);
+            catalogItemAdapter.write(out.name("Item"), value.Item);
+            out.name("Publish").value(value.Publish);
+            out.endObject();
+        }
+
+        @Override
+        public CreateDraftItemRequest read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            CreateDraftItemRequest value = new CreateDraftItemRequest();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "CustomTags": value.CustomTags = PlayFabJson.readMap(in, stringAdapter); break;
+                        case "Item": value.Item = catalogItemAdapter.read(in); break;
+                        case "Publish": value.Publish = PlayFabJson.readBoolean(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class CreateDraftItemResponseAdapter extends TypeAdapter<CreateDraftItemResponse> {
+        private final TypeAdapter<CatalogItem> catalogItemAdapter;
+
+        private CreateDraftItemResponseAdapter(Gson gson) {
+            catalogItemAdapter = gson.getAdapter(CatalogItem.class);
+        }
+
+        @Override
+        public void write(JsonWriter out, CreateDraftItemResponse value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            catalogItemAdapter.write(out.name("Item"), value.Item);
+            out.endObject();
+        }
+
+        @Override
+        public CreateDraftItemResponse read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            CreateDraftItemResponse value = new CreateDraftItemResponse();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "Item": value.Item = catalogItemAdapter.read(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class CreateUploadUrlsRequestAdapter extends TypeAdapter<CreateUploadUrlsRequest> {
+        private final TypeAdapter<String> stringAdapter;
+        private final TypeAdapter<UploadInfo> uploadInfoAdapter;
+
+        private CreateUploadUrlsRequestAdapter(Gson gson) {
+            stringAdapter = gson.getAdapter(String.class);
+            uploadInfoAdapter = gson.getAdapter(UploadInfo.class);
+        }
+
+        @Override
+        public void write(JsonWriter out, CreateUploadUrlsRequest value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            PlayFabJson.writeMap(out.name("CustomTags"), value.CustomTags, stringAdapter);
+            PlayFabJson.writeList(out.name("Files"), value.Files, uploadInfoAdapter);
+            out.endObject();
+        }
+
+        @Override
+        public CreateUploadUrlsRequest read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            CreateUploadUrlsRequest value = new CreateUploadUrlsRequest();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "CustomTags": value.CustomTags = PlayFabJson.readMap(in, stringAdapter); break;
+                        case "Files": value.Files = PlayFabJson.readList(in, uploadInfoAdapter); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class CreateUploadUrlsResponseAdapter extends TypeAdapter<CreateUploadUrlsResponse> {
+        private final TypeAdapter<UploadUrlMetadata> uploadUrlMetadataAdapter;
+
+        private CreateUploadUrlsResponseAdapter(Gson gson) {
+            uploadUrlMetadataAdapter = gson.getAdapter(UploadUrlMetadata.class);
+        }
+
+        @Override
+        public void write(JsonWriter out, CreateUploadUrlsResponse value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            PlayFabJson.writeList(out.name("UploadUrls"), value.UploadUrls, uploadUrlMetadataAdapter);
+            out.endObject();
+        }
+
+        @Override
+        public CreateUploadUrlsResponse read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            CreateUploadUrlsResponse value = new CreateUploadUrlsResponse();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "UploadUrls": value.UploadUrls = PlayFabJson.readList(in, uploadUrlMetadataAdapter); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class DeleteEntityItemReviewsRequestAdapter extends TypeAdapter<DeleteEntityItemReviewsRequest> {
+        private final TypeAdapter<String> stringAdapter;
+        private final TypeAdapter<EntityKey> entityKeyAdapter;
+
+        private DeleteEntityItemReviewsRequestAdapter(Gson gson) {
+            stringAdapter = gson.getAdapter(String.class);
+            entityKeyAdapter = gson.getAdapter(EntityKey.class);
+        }
+
+        @Override
+        public void write(JsonWriter out, DeleteEntityItemReviewsRequest value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            PlayFabJson.writeMap(out.name("CustomTags"), value.CustomTags, stringAdapter);
+            entityKeyAdapter.write(out.name("Entity"), value.Entity);
+            out.endObject();
+        }
+
+        @Override
+        public DeleteEntityItemReviewsRequest read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            DeleteEntityItemReviewsRequest value = new DeleteEntityItemReviewsRequest();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "CustomTags": value.CustomTags = PlayFabJson.readMap(in, stringAdapter); break;
+                        case "Entity": value.Entity = entityKeyAdapter.read(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class DeleteEntityItemReviewsResponseAdapter extends TypeAdapter<DeleteEntityItemReviewsResponse> {
+        private DeleteEntityItemReviewsResponseAdapter(Gson gson) {
+        }
+
+        @Override
+        public void write(JsonWriter out, DeleteEntityItemReviewsResponse value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.endObject();
+        }
+
+        @Override
+        public DeleteEntityItemReviewsResponse read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            DeleteEntityItemReviewsResponse value = new DeleteEntityItemReviewsResponse();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class DeleteItemRequestAdapter extends TypeAdapter<DeleteItemRequest> {
+        private final TypeAdapter<CatalogAlternateId> catalogAlternateIdAdapter;
+        private final TypeAdapter<String> stringAdapter;
+        private final TypeAdapter<EntityKey> entityKeyAdapter;
+
+        private DeleteItemRequestAdapter(Gson gson) {
+            catalogAlternateIdAdapter = gson.getAdapter(CatalogAlternateId.class);
+            stringAdapter = gson.getAdapter(String.class);
+            entityKeyAdapter = gson.getAdapter(EntityKey.class);
+        }
+
+        @Override
+        public void write(JsonWriter out, DeleteItemRequest value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            catalogAlternateIdAdapter.write(out.name("AlternateId"), value.AlternateId);
+            PlayFabJson.writeMap(out.name("CustomTags"), value.CustomTags, stringAdapter);
+            entityKeyAdapter.write(out.name("Entity"), value.Entity);
+            out.name("Id").value(value.Id);
+            out.endObject();
+        }
+
+        @Override
+        public DeleteItemRequest read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            DeleteItemRequest value = new DeleteItemRequest();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "AlternateId": value.AlternateId = catalogAlternateIdAdapter.read(in); break;
+                        case "CustomTags": value.CustomTags = PlayFabJson.readMap(in, stringAdapter); break;
+                        case "Entity": value.Entity = entityKeyAdapter.read(in); break;
+                        case "Id": value.Id = PlayFabJson.readString(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class DeleteItemResponseAdapter extends TypeAdapter<DeleteItemResponse> {
+        private DeleteItemResponseAdapter(Gson gson) {
+        }
+
+        @Override
+        public void write(JsonWriter out, DeleteItemResponse value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.endObject();
+        }
+
+        @Override
+        public DeleteItemResponse read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            DeleteItemResponse value = new DeleteItemResponse();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class DisplayPropertyIndexInfoAdapter extends TypeAdapter<DisplayPropertyIndexInfo> {
+        private final TypeAdapter<DisplayPropertyType> displayPropertyTypeAdapter;
+
+        private DisplayPropertyIndexInfoAdapter(Gson gson) {
+            displayPropertyTypeAdapter = gson.getAdapter(DisplayPropertyType.class);
+        }
+
+        @Override
+        public void write(JsonWriter out, DisplayPropertyIndexInfo value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.name("Name").value(value.Name);
+            displayPropertyTypeAdapter.write(out.name("Type"), value.Type);
+            out.endObject();
+        }
+
+        @Override
+        public DisplayPropertyIndexInfo read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            DisplayPropertyIndexInfo value = new DisplayPropertyIndexInfo();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "Name": value.Name = PlayFabJson.readString(in); break;
+                        case "Type": value.Type = displayPropertyTypeAdapter.read(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class EntityKeyAdapter extends TypeAdapter<EntityKey> {
+        private EntityKeyAdapter(Gson gson) {
+        }
+
+        @Override
+        public void write(JsonWriter out, EntityKey value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.name("Id").value(value.Id);
+            out.name("Type").value(value.Type);
+            out.endObject();
+        }
+
+        @Override
+        public EntityKey read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            EntityKey value = new EntityKey();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "Id": value.Id = PlayFabJson.readString(in); break;
+                        case "Type": value.Type = PlayFabJson.readString(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class GetCatalogConfigRequestAdapter extends TypeAdapter<GetCatalogConfigRequest> {
+        private final TypeAdapter<String> stringAdapter;
+
+        private GetCatalogConfigRequestAdapter(Gson gson) {
+            stringAdapter = gson.getAdapter(String.class);
+        }
+
+        @Override
+        public void write(JsonWriter out, GetCatalogConfigRequest value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            PlayFabJson.writeMap(out.name("CustomTags"), value.CustomTags, stringAdapter);
+            out.endObject();
+        }
+
+        @Override
+        public GetCatalogConfigRequest read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            GetCatalogConfigRequest value = new GetCatalogConfigRequest();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "CustomTags": value.CustomTags = PlayFabJson.readMap(in, stringAdapter); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class GetCatalogConfigResponseAdapter extends TypeAdapter<GetCatalogConfigResponse> {
+        private final TypeAdapter<CatalogConfig> catalogConfigAdapter;
+
+        private GetCatalogConfigResponseAdapter(Gson gson) {
+            catalogConfigAdapter = gson.getAdapter(CatalogConfig.class);
+        }
+
+        @Override
+        public void write(JsonWriter out, GetCatalogConfigResponse value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            catalogConfigAdapter.write(out.name("Config"), value.Config);
+            out.endObject();
+        }
+
+        @Override
+        public GetCatalogConfigResponse read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            GetCatalogConfigResponse value = new GetCatalogConfigResponse();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "Config": value.Config = catalogConfigAdapter.read(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class GetDraftItemRequestAdapter extends TypeAdapter<GetDraftItemRequest> {
+        private final TypeAdapter<CatalogAlternateId> catalogAlternateIdAdapter;
+        private final TypeAdapter<String> stringAdapter;
+        private final TypeAdapter<EntityKey> entityKeyAdapter;
+
+        private GetDraftItemRequestAdapter(Gson gson) {
+            catalogAlternateIdAdapter = gson.getAdapter(CatalogAlternateId.class);
+            stringAdapter = gson.getAdapter(String.class);
+            entityKeyAdapter = gson.getAdapter(EntityKey.class);
+        }
+
+        @Override
+        public void write(JsonWriter out, GetDraftItemRequest value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            catalogAlternateIdAdapter.write(out.name("AlternateId"), value.AlternateId);
+            PlayFabJson.writeMap(out.name("CustomTags"), value.CustomTags, stringAdapter);
+            entityKeyAdapter.write(out.name("Entity"), value.Entity);
+            out.name("Id").value(value.Id);
+            out.endObject();
+        }
+
+        @Override
+        public GetDraftItemRequest read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            GetDraftItemRequest value = new GetDraftItemRequest();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "AlternateId": value.AlternateId = catalogAlternateIdAdapter.read(in); break;
+                        case "CustomTags": value.CustomTags = PlayFabJson.readMap(in, stringAdapter); break;
+                        case "Entity": value.Entity = entityKeyAdapter.read(in); break;
+                        case "Id": value.Id = PlayFabJson.readString(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class GetDraftItemResponseAdapter extends TypeAdapter<GetDraftItemResponse> {
+        private final TypeAdapter<CatalogItem> catalogItemAdapter;
+
+        private GetDraftItemResponseAdapter(Gson gson) {
+            catalogItemAdapter = gson.getAdapter(CatalogItem.class);
+        }
+
+        @Override
+        public void write(JsonWriter out, GetDraftItemResponse value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            catalogItemAdapter.write(out.name("Item"), value.Item);
+            out.endObject();
+        }
+
+        @Override
+        public GetDraftItemResponse read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            GetDraftItemResponse value = new GetDraftItemResponse();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "Item": value.Item = catalogItemAdapter.read(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class GetDraftItemsRequestAdapter extends TypeAdapter<GetDraftItemsRequest> {
+        private final TypeAdapter<CatalogAlternateId> catalogAlternateIdAdapter;
+        private final TypeAdapter<String> stringAdapter;
+        private final TypeAdapter<EntityKey> entityKeyAdapter;
+
+        private GetDraftItemsRequestAdapter(Gson gson) {
+            catalogAlternateIdAdapter = gson.getAdapter(CatalogAlternateId.class);
+            stringAdapter = gson.getAdapter(String.class);
+            entityKeyAdapter = gson.getAdapter(EntityKey.class);
+        }
+
+        @Override
+        public void write(JsonWriter out, GetDraftItemsRequest value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            PlayFabJson.writeList(out.name("AlternateIds"), value.AlternateIds, catalogAlternateIdAdapter);
+            PlayFabJson.writeMap(out.name("CustomTags"), value.CustomTags, stringAdapter);
+            entityKeyAdapter.write(out.name("Entity"), value.Entity);
+            PlayFabJson.writeList(out.name("Ids"), value.Ids, stringAdapter);
+            out.endObject();
+        }
+
+        @Override
+        public GetDraftItemsRequest read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            GetDraftItemsRequest value = new GetDraftItemsRequest();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "AlternateIds": value.AlternateIds = PlayFabJson.readList(in, catalogAlternateIdAdapter); break;
+                        case "CustomTags": value.CustomTags = PlayFabJson.readMap(in, stringAdapter); break;
+                        case "Entity": value.Entity = entityKeyAdapter.read(in); break;
+                        case "Ids": value.Ids = PlayFabJson.readList(in, stringAdapter); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class GetDraftItemsResponseAdapter extends TypeAdapter<GetDraftItemsResponse> {
+        private final TypeAdapter<CatalogItem> catalogItemAdapter;
+
+        private GetDraftItemsResponseAdapter(Gson gson) {
+            catalogItemAdapter = gson.getAdapter(CatalogItem.class);
+        }
+
+        @Override
+        public void write(JsonWriter out, GetDraftItemsResponse value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.name("ContinuationToken").value(value.ContinuationToken);
+            PlayFabJson.writeList(out.name("Items"), value.Items, catalogItemAdapter);
+            out.endObject();
+        }
+
+        @Override
+        public GetDraftItemsResponse read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            GetDraftItemsResponse value = new GetDraftItemsResponse();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "ContinuationToken": value.ContinuationToken = PlayFabJson.readString(in); break;
+                        case "Items": value.Items = PlayFabJson.readList(in, catalogItemAdapter); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class GetEntityDraftItemsRequestAdapter extends TypeAdapter<GetEntityDraftItemsRequest> {
+        private final TypeAdapter<String> stringAdapter;
+        private final TypeAdapter<EntityKey> entityKeyAdapter;
+
+        private GetEntityDraftItemsRequestAdapter(Gson gson) {
+            stringAdapter = gson.getAdapter(String.class);
+            entityKeyAdapter = gson.getAdapter(EntityKey.class);
+        }
+
+        @Override
+        public void write(JsonWriter out, GetEntityDraftItemsRequest value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.name("ContinuationToken").value(value.ContinuationToken);
+            out.name("Count").value(value.Count);
+            PlayFabJson.writeMap(out.name("CustomTags"), value.CustomTags, stringAdapter);
+            entityKeyAdapter.write(out.name("Entity"), value.Entity);
+            out.endObject();
+        }
+
+        @Override
+        public GetEntityDraftItemsRequest read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            GetEntityDraftItemsRequest value = new GetEntityDraftItemsRequest();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "ContinuationToken": value.ContinuationToken = PlayFabJson.readString(in); break;
+                        case "Count": value.Count = PlayFabJson.readInteger(in); break;
+                        case "CustomTags": value.CustomTags = PlayFabJson.readMap(in, stringAdapter); break;
+                        case "Entity": value.Entity = entityKeyAdapter.read(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class GetEntityDraftItemsResponseAdapter extends TypeAdapter<GetEntityDraftItemsResponse> {
+        private final TypeAdapter<CatalogItem> catalogItemAdapter;
+
+        private GetEntityDraftItemsResponseAdapter(Gson gson) {
+            catalogItemAdapter = gson.getAdapter(CatalogItem.class);
+        }
+
+        @Override
+        public void write(JsonWriter out, GetEntityDraftItemsResponse value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.name("ContinuationToken").value(value.ContinuationToken);
+            PlayFabJson.writeList(out.name("Items"), value.Items, catalogItemAdapter);
+            out.endObject();
+        }
+
+        @Override
+        public GetEntityDraftItemsResponse read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            GetEntityDraftItemsResponse value = new GetEntityDraftItemsResponse();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "ContinuationToken": value.ContinuationToken = PlayFabJson.readString(in); break;
+                        case "Items": value.Items = PlayFabJson.readList(in, catalogItemAdapter); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class GetEntityItemReviewRequestAdapter extends TypeAdapter<GetEntityItemReviewRequest> {
+        private final TypeAdapter<CatalogAlternateId> catalogAlternateIdAdapter;
+        private final TypeAdapter<String> stringAdapter;
+        private final TypeAdapter<EntityKey> entityKeyAdapter;
+
+        private GetEntityItemReviewRequestAdapter(Gson gson) {
+            catalogAlternateIdAdapter = gson.getAdapter(CatalogAlternateId.class);
+            stringAdapter = gson.getAdapter(String.class);
+            entityKeyAdapter = gson.getAdapter(EntityKey.class);
+        }
+
+        @Override
+        public void write(JsonWriter out, GetEntityItemReviewRequest value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            catalogAlternateIdAdapter.write(out.name("AlternateId"), value.AlternateId);
+            PlayFabJson.writeMap(out.name("CustomTags"), value.CustomTags, stringAdapter);
+            entityKeyAdapter.write(out.name("Entity"), value.Entity);
+            out.name("Id").value(value.Id);
+            out.endObject();
+        }
+
+        @Override
+        public GetEntityItemReviewRequest read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            GetEntityItemReviewRequest value = new GetEntityItemReviewRequest();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "AlternateId": value.AlternateId = catalogAlternateIdAdapter.read(in); break;
+                        case "CustomTags": value.CustomTags = PlayFabJson.readMap(in, stringAdapter); break;
+                        case "Entity": value.Entity = entityKeyAdapter.read(in); break;
+                        case "Id": value.Id = PlayFabJson.readString(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class GetEntityItemReviewResponseAdapter extends TypeAdapter<GetEntityItemReviewResponse> {
+        private final TypeAdapter<Review> reviewAdapter;
+
+        private GetEntityItemReviewResponseAdapter(Gson gson) {
+            reviewAdapter = gson.getAdapter(Review.class);
+        }
+
+        @Override
+        public void write(JsonWriter out, GetEntityItemReviewResponse value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            reviewAdapter.write(out.name("Review"), value.Review);
+            out.endObject();
+        }
+
+        @Override
+        public GetEntityItemReviewResponse read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            GetEntityItemReviewResponse value = new GetEntityItemReviewResponse();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "Review": value.Review = reviewAdapter.read(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class GetItemModerationStateRequestAdapter extends TypeAdapter<GetItemModerationStateRequest> {
+        private final TypeAdapter<CatalogAlternateId> catalogAlternateIdAdapter;
+        private final TypeAdapter<String> stringAdapter;
+
+        private GetItemModerationStateRequestAdapter(Gson gson) {
+            catalogAlternateIdAdapter = gson.getAdapter(CatalogAlternateId.class);
+            stringAdapter = gson.getAdapter(String.class);
+        }
+
+        @Override
+        public void write(JsonWriter out, GetItemModerationStateRequest value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            catalogAlternateIdAdapter.write(out.name("AlternateId"), value.AlternateId);
+            PlayFabJson.writeMap(out.name("CustomTags"), value.CustomTags, stringAdapter);
+            out.name("Id").value(value.Id);
+            out.endObject();
+        }
+
+        @Override
+        public GetItemModerationStateRequest read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            GetItemModerationStateRequest value = new GetItemModerationStateRequest();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "AlternateId": value.AlternateId = catalogAlternateIdAdapter.read(in); break;
+                        case "CustomTags": value.CustomTags = PlayFabJson.readMap(in, stringAdapter); break;
+                        case "Id": value.Id = PlayFabJson.readString(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class GetItemModerationStateResponseAdapter extends TypeAdapter<GetItemModerationStateResponse> {
+        private final TypeAdapter<ModerationState> moderationStateAdapter;
+
+        private GetItemModerationStateResponseAdapter(Gson gson) {
+            moderationStateAdapter = gson.getAdapter(ModerationState.class);
+        }
+
+        @Override
+        public void write(JsonWriter out, GetItemModerationStateResponse value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            moderationStateAdapter.write(out.name("State"), value.State);
+            out.endObject();
+        }
+
+        @Override
+        public GetItemModerationStateResponse read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            GetItemModerationStateResponse value = new GetItemModerationStateResponse();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "State": value.State = moderationStateAdapter.read(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class GetItemPublishStatusRequestAdapter extends TypeAdapter<GetItemPublishStatusRequest> {
+        private final TypeAdapter<CatalogAlternateId> catalogAlternateIdAdapter;
+        private final TypeAdapter<String> stringAdapter;
+        private final TypeAdapter<EntityKey> entityKeyAdapter;
+
+        private GetItemPublishStatusRequestAdapter(Gson gson) {
+            catalogAlternateIdAdapter = gson.getAdapter(CatalogAlternateId.class);
+            stringAdapter = gson.getAdapter(String.class);
+            entityKeyAdapter = gson.getAdapter(EntityKey.class);
+        }
+
+        @Override
+        public void write(JsonWriter out, GetItemPublishStatusRequest value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            catalogAlternateIdAdapter.write(out.name("AlternateId"), value.AlternateId);
+            PlayFabJson.writeMap(out.name("CustomTags"), value.CustomTags, stringAdapter);
+            entityKeyAdapter.write(out.name("Entity"), value.Entity);
+            out.name("Id").value(value.Id);
+            out.endObject();
+        }
+
+        @Override
+        public GetItemPublishStatusRequest read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            GetItemPublishStatusRequest value = new GetItemPublishStatusRequest();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "AlternateId": value.AlternateId = catalogAlternateIdAdapter.read(in); break;
+                        case "CustomTags": value.CustomTags = PlayFabJson.readMap(in, stringAdapter); break;
+                        case "Entity": value.Entity = entityKeyAdapter.read(in); break;
+                        case "Id": value.Id = PlayFabJson.readString(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class GetItemPublishStatusResponseAdapter extends TypeAdapter<GetItemPublishStatusResponse> {
+        private final TypeAdapter<ScanResult> scanResultAdapter;
+        private final TypeAdapter<PublishResult> publishResultAdapter;
+
+        private GetItemPublishStatusResponseAdapter(Gson gson) {
+            scanResultAdapter = gson.getAdapter(ScanResult.class);
+            publishResultAdapter = gson.getAdapter(PublishResult.class);
+        }
+
+        @Override
+        public void write(JsonWriter out, GetItemPublishStatusResponse value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            PlayFabJson.writeList(out.name("FailedScanResults"), value.FailedScanResults, scanResultAdapter);
+            publishResultAdapter.write(out.name("Result"), value.Result);
+            out.name("StatusMessage").value(value.StatusMessage);
+            out.endObject();
+        }
+
+        @Override
+        public GetItemPublishStatusResponse read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            GetItemPublishStatusResponse value = new GetItemPublishStatusResponse();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "FailedScanResults": value.FailedScanResults = PlayFabJson.readList(in, scanResultAdapter); break;
+                        case "Result": value.Result = publishResultAdapter.read(in); break;
+                        case "StatusMessage": value.StatusMessage = PlayFabJson.readString(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class GetItemRequestAdapter extends TypeAdapter<GetItemRequest> {
+        private final TypeAdapter<CatalogAlternateId> catalogAlternateIdAdapter;
+        private final TypeAdapter<String> stringAdapter;
+        private final TypeAdapter<EntityKey> entityKeyAdapter;
+
+        private GetItemRequestAdapter(Gson gson) {
+            catalogAlternateIdAdapter = gson.getAdapter(CatalogAlternateId.class);
+            stringAdapter = gson.getAdapter(String.class);
+            entityKeyAdapter = gson.getAdapter(EntityKey.class);
+        }
+
+        @Override
+        public void write(JsonWriter out, GetItemRequest value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            catalogAlternateIdAdapter.write(out.name("AlternateId"), value.AlternateId);
+            PlayFabJson.writeMap(out.name("CustomTags"), value.CustomTags, stringAdapter);
+            entityKeyAdapter.write(out.name("Entity"), value.Entity);
+            out.name("Id").value(value.Id);
+            out.endObject();
+        }
+
+        @Override
+        public GetItemRequest read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            GetItemRequest value = new GetItemRequest();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "AlternateId": value.AlternateId = catalogAlternateIdAdapter.read(in); break;
+                        case "CustomTags": value.CustomTags = PlayFabJson.readMap(in, stringAdapter); break;
+                        case "Entity": value.Entity = entityKeyAdapter.read(in); break;
+                        case "Id": value.Id = PlayFabJson.readString(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class GetItemResponseAdapter extends TypeAdapter<GetItemResponse> {
+        private final TypeAdapter<CatalogItem> catalogItemAdapter;
+
+        private GetItemResponseAdapter(Gson gson) {
+            catalogItemAdapter = gson.getAdapter(CatalogItem.class);
+        }
+
+        @Override
+        public void write(JsonWriter out, GetItemResponse value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            catalogItemAdapter.write(out.name("Item"), value.Item);
+            out.endObject();
+        }
+
+        @Override
+        public GetItemResponse read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            GetItemResponse value = new GetItemResponse();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "Item": value.Item = catalogItemAdapter.read(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class GetItemReviewsRequestAdapter extends TypeAdapter<GetItemReviewsRequest> {
+        private final TypeAdapter<CatalogAlternateId> catalogAlternateIdAdapter;
+        private final TypeAdapter<String> stringAdapter;
+
+        private GetItemReviewsRequestAdapter(Gson gson) {
+            catalogAlternateIdAdapter = gson.getAdapter(CatalogAlternateId.class);
+            stringAdapter = gson.getAdapter(String.class);
+        }
+
+        @Override
+        public void write(JsonWriter out, GetItemReviewsRequest value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            catalogAlternateIdAdapter.write(out.name("AlternateId"), value.AlternateId);
+            out.name("ContinuationToken").value(value.ContinuationToken);
+            out.name("Count").value(value.Count);
+            PlayFabJson.writeMap(out.name("CustomTags"), value.CustomTags, stringAdapter);
+            out.name("Id").value(value.Id);
+            out.name("OrderBy").value(value.OrderBy);
+            out.endObject();
+        }
+
+        @Override
+        public GetItemReviewsRequest read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            GetItemReviewsRequest value = new GetItemReviewsRequest();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "AlternateId": value.AlternateId = catalogAlternateIdAdapter.read(in); break;
+                        case "ContinuationToken": value.ContinuationToken = PlayFabJson.readString(in); break;
+                        case "Count": value.Count = PlayFabJson.readInteger(in); break;
+                        case "CustomTags": value.CustomTags = PlayFabJson.readMap(in, stringAdapter); break;
+                        case "Id": value.Id = PlayFabJson.readString(in); break;
+                        case "OrderBy": value.OrderBy = PlayFabJson.readString(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class GetItemReviewsResponseAdapter extends TypeAdapter<GetItemReviewsResponse> {
+        private final TypeAdapter<Review> reviewAdapter;
+
+        private GetItemReviewsResponseAdapter(Gson gson) {
+            reviewAdapter = gson.getAdapter(Review.class);
+        }
+
+        @Override
+        public void write(JsonWriter out, GetItemReviewsResponse value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.name("ContinuationToken").value(value.ContinuationToken);
+            PlayFabJson.writeList(out.name("Reviews"), value.Reviews, reviewAdapter);
+            out.endObject();
+        }
+
+        @Override
+        public GetItemReviewsResponse read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            GetItemReviewsResponse value = new GetItemReviewsResponse();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "ContinuationToken": value.ContinuationToken = PlayFabJson.readString(in); break;
+                        case "Reviews": value.Reviews = PlayFabJson.readList(in, reviewAdapter); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class GetItemReviewSummaryRequestAdapter extends TypeAdapter<GetItemReviewSummaryRequest> {
+        private final TypeAdapter<CatalogAlternateId> catalogAlternateIdAdapter;
+        private final TypeAdapter<String> stringAdapter;
+
+        private GetItemReviewSummaryRequestAdapter(Gson gson) {
+            catalogAlternateIdAdapter = gson.getAdapter(CatalogAlternateId.class);
+            stringAdapter = gson.getAdapter(String.class);
+        }
+
+        @Override
+        public void write(JsonWriter out, GetItemReviewSummaryRequest value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            catalogAlternateIdAdapter.write(out.name("AlternateId"), value.AlternateId);
+            PlayFabJson.writeMap(out.name("CustomTags"), value.CustomTags, stringAdapter);
+            out.name("Id").value(value.Id);
+            out.endObject();
+        }
+
+        @Override
+        public GetItemReviewSummaryRequest read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            GetItemReviewSummaryRequest value = new GetItemReviewSummaryRequest();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "AlternateId": value.AlternateId = catalogAlternateIdAdapter.read(in); break;
+                        case "CustomTags": value.CustomTags = PlayFabJson.readMap(in, stringAdapter); break;
+                        case "Id": value.Id = PlayFabJson.readString(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class GetItemReviewSummaryResponseAdapter extends TypeAdapter<GetItemReviewSummaryResponse> {
+        private final TypeAdapter<Review> reviewAdapter;
+        private final TypeAdapter<Rating> ratingAdapter;
+
+        private GetItemReviewSummaryResponseAdapter(Gson gson) {
+            reviewAdapter = gson.getAdapter(Review.class);
+            ratingAdapter = gson.getAdapter(Rating.class);
+        }
+
+        @Override
+        public void write(JsonWriter out, GetItemReviewSummaryResponse value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            reviewAdapter.write(out.name("LeastFavorableReview"), value.LeastFavorableReview);
+            reviewAdapter.write(out.name("MostFavorableReview"), value.MostFavorableReview);
+            ratingAdapter.write(out.name("Rating"), value.Rating);
+            out.name("ReviewsCount").value(value.ReviewsCount);
+            out.endObject();
+        }
+
+        @Override
+        public GetItemReviewSummaryResponse read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            GetItemReviewSummaryResponse value = new GetItemReviewSummaryResponse();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "LeastFavorableReview": value.LeastFavorableReview = reviewAdapter.read(in); break;
+                        case "MostFavorableReview": value.MostFavorableReview = reviewAdapter.read(in); break;
+                        case "Rating": value.Rating = ratingAdapter.read(in); break;
+                        case "ReviewsCount": value.ReviewsCount = PlayFabJson.readInteger(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class ImageAdapter extends TypeAdapter<Image> {
+        private ImageAdapter(Gson gson) {
+        }
+
+        @Override
+        public void write(JsonWriter out, Image value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.name("Id").value(value.Id);
+            out.name("Type").value(value.Type);
+            out.name("Url").value(value.Url);
+            out.endObject();
+        }
+
+        @Override
+        public Image read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            Image value = new Image();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "Id": value.Id = PlayFabJson.readString(in); break;
+                        case "Type": value.Type = PlayFabJson.readString(in); break;
+                        case "Url": value.Url = PlayFabJson.readString(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class KeywordSetAdapter extends TypeAdapter<KeywordSet> {
+        private final TypeAdapter<String> stringAdapter;
+
+        private KeywordSetAdapter(Gson gson) {
+            stringAdapter = gson.getAdapter(String.class);
+        }
+
+        @Override
+        public void write(JsonWriter out, KeywordSet value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            PlayFabJson.writeList(out.name("Values"), value.Values, stringAdapter);
+            out.endObject();
+        }
+
+        @Override
+        public KeywordSet read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            KeywordSet value = new KeywordSet();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "Values": value.Values = PlayFabJson.readList(in, stringAdapter); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class ModerationStateAdapter extends TypeAdapter<ModerationState> {
+        private final TypeAdapter<Date> dateAdapter;
+        private final TypeAdapter<ModerationStatus> moderationStatusAdapter;
+
+        private ModerationStateAdapter(Gson gson) {
+            dateAdapter = gson.getAdapter(Date.class);
+            moderationStatusAdapter = gson.getAdapter(ModerationStatus.class);
+        }
+
+        @Override
+        public void write(JsonWriter out, ModerationState value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            dateAdapter.write(out.name("LastModifiedDate"), value.LastModifiedDate);
+            out.name("Reason").value(value.Reason);
+            moderationStatusAdapter.write(out.name("Status"), value.Status);
+            out.endObject();
+        }
+
+        @Override
+        public ModerationState read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            ModerationState value = new ModerationState();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "LastModifiedDate": value.LastModifiedDate = dateAdapter.read(in); break;
+                        case "Reason": value.Reason = PlayFabJson.readString(in); break;
+                        case "Status": value.Status = moderationStatusAdapter.read(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class PublishDraftItemRequestAdapter extends TypeAdapter<PublishDraftItemRequest> {
+        private final TypeAdapter<CatalogAlternateId> catalogAlternateIdAdapter;
+        private final TypeAdapter<String> stringAdapter;
+        private final TypeAdapter<EntityKey> entityKeyAdapter;
+
+        private PublishDraftItemRequestAdapter(Gson gson) {
+            catalogAlternateIdAdapter = gson.getAdapter(CatalogAlternateId.class);
+            stringAdapter = gson.getAdapter(String.class);
+            entityKeyAdapter = gson.getAdapter(EntityKey.class);
+        }
+
+        @Override
+        public void write(JsonWriter out, PublishDraftItemRequest value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            catalogAlternateIdAdapter.write(out.name("AlternateId"), value.AlternateId);
+            PlayFabJson.writeMap(out.name("CustomTags"), value.CustomTags, stringAdapter);
+            entityKeyAdapter.write(out.name("Entity"), value.Entity);
+            out.name("ETag").value(value.ETag);
+            out.name("Id").value(value.Id);
+            out.endObject();
+        }
+
+        @Override
+        public PublishDraftItemRequest read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            PublishDraftItemRequest value = new PublishDraftItemRequest();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "AlternateId": value.AlternateId = catalogAlternateIdAdapter.read(in); break;
+                        case "CustomTags": value.CustomTags = PlayFabJson.readMap(in, stringAdapter); break;
+                        case "Entity": value.Entity = entityKeyAdapter.read(in); break;
+                        case "ETag": value.ETag = PlayFabJson.readString(in); break;
+                        case "Id": value.Id = PlayFabJson.readString(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class PublishDraftItemResponseAdapter extends TypeAdapter<PublishDraftItemResponse> {
+        private PublishDraftItemResponseAdapter(Gson gson) {
+        }
+
+        @Override
+        public void write(JsonWriter out, PublishDraftItemResponse value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.endObject();
+        }
+
+        @Override
+        public PublishDraftItemResponse read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            PublishDraftItemResponse value = new PublishDraftItemResponse();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class RatingAdapter extends TypeAdapter<Rating> {
+        private final TypeAdapter<Float> floatAdapter;
+
+        private RatingAdapter(Gson gson) {
+            floatAdapter = gson.getAdapter(Float.class);
+        }
+
+        @Override
+        public void write(JsonWriter out, Rating value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            floatAdapter.write(out.name("Average"), value.Average);
+            out.name("Count1Star").value(value.Count1Star);
+            out.name("Count2Star").value(value.Count2Star);
+            out.name("Count3Star").value(value.Count3Star);
+            out.name("Count4Star").value(value.Count4Star);
+            out.name("Count5Star").value(value.Count5Star);
+            out.name("TotalCount").value(value.TotalCount);
+            out.endObject();
+        }
+
+        @Override
+        public Rating read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            Rating value = new Rating();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "Average": value.Average = floatAdapter.read(in); break;
+                        case "Count1Star": value.Count1Star = PlayFabJson.readInteger(in); break;
+                        case "Count2Star": value.Count2Star = PlayFabJson.readInteger(in); break;
+                        case "Count3Star": value.Count3Star = PlayFabJson.readInteger(in); break;
+                        case "Count4Star": value.Count4Star = PlayFabJson.readInteger(in); break;
+                        case "Count5Star": value.Count5Star = PlayFabJson.readInteger(in); break;
+                        case "TotalCount": value.TotalCount = PlayFabJson.readInteger(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class ReportItemRequestAdapter extends TypeAdapter<ReportItemRequest> {
+        private final TypeAdapter<CatalogAlternateId> catalogAlternateIdAdapter;
+        private final TypeAdapter<ConcernCategory> concernCategoryAdapter;
+        private final TypeAdapter<String> stringAdapter;
+        private final TypeAdapter<EntityKey> entityKeyAdapter;
+
+        private ReportItemRequestAdapter(Gson gson) {
+            catalogAlternateIdAdapter = gson.getAdapter(CatalogAlternateId.class);
+            concernCategoryAdapter = gson.getAdapter(ConcernCategory.class);
+            stringAdapter = gson.getAdapter(String.class);
+            entityKeyAdapter = gson.getAdapter(EntityKey.class);
+        }
+
+        @Override
+        public void write(JsonWriter out, ReportItemRequest value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            catalogAlternateIdAdapter.write(out.name("AlternateId"), value.AlternateId);
+            concernCategoryAdapter.write(out.name("ConcernCategory"), value.ConcernCategory);
+            PlayFabJson.writeMap(out.name("CustomTags"), value.CustomTags, stringAdapter);
+            entityKeyAdapter.write(out.name("Entity"), value.Entity);
+            out.name("Id").value(value.Id);
+            out.name("Reason").value(value.Reason);
+            out.endObject();
+        }
+
+        @Override
+        public ReportItemRequest read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            ReportItemRequest value = new ReportItemRequest();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "AlternateId": value.AlternateId = catalogAlternateIdAdapter.read(in); break;
+                        case "ConcernCategory": value.ConcernCategory = concernCategoryAdapter.read(in); break;
+                        case "CustomTags": value.CustomTags = PlayFabJson.readMap(in, stringAdapter); break;
+                        case "Entity": value.Entity = entityKeyAdapter.read(in); break;
+                        case "Id": value.Id = PlayFabJson.readString(in); break;
+                        case "Reason": value.Reason = PlayFabJson.readString(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class ReportItemResponseAdapter extends TypeAdapter<ReportItemResponse> {
+        private ReportItemResponseAdapter(Gson gson) {
+        }
+
+        @Override
+        public void write(JsonWriter out, ReportItemResponse value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.endObject();
+        }
+
+        @Override
+        public ReportItemResponse read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            ReportItemResponse value = new ReportItemResponse();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class ReportItemReviewRequestAdapter extends TypeAdapter<ReportItemReviewRequest> {
+        private final TypeAdapter<CatalogAlternateId> catalogAlternateIdAdapter;
+        private final TypeAdapter<ConcernCategory> concernCategoryAdapter;
+        private final TypeAdapter<String> stringAdapter;
+        private final TypeAdapter<EntityKey> entityKeyAdapter;
+
+        private ReportItemReviewRequestAdapter(Gson gson) {
+            catalogAlternateIdAdapter = gson.getAdapter(CatalogAlternateId.class);
+            concernCategoryAdapter = gson.getAdapter(ConcernCategory.class);
+            stringAdapter = gson.getAdapter(String.class);
+            entityKeyAdapter = gson.getAdapter(EntityKey.class);
+        }
+
+        @Override
+        public void write(JsonWriter out, ReportItemReviewRequest value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            catalogAlternateIdAdapter.write(out.name("AlternateId"), value.AlternateId);
+            concernCategoryAdapter.write(out.name("ConcernCategory"), value.ConcernCategory);
+            PlayFabJson.writeMap(out.name("CustomTags"), value.CustomTags, stringAdapter);
+            entityKeyAdapter.write(out.name("Entity"), value.Entity);
+            out.name("ItemId").value(value.ItemId);
+            out.name("Reason").value(value.Reason);
+            out.name("ReviewId").value(value.ReviewId);
+            out.endObject();
+        }
+
+        @Override
+        public ReportItemReviewRequest read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            ReportItemReviewRequest value = new ReportItemReviewRequest();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "AlternateId": value.AlternateId = catalogAlternateIdAdapter.read(in); break;
+                        case "ConcernCategory": value.ConcernCategory = concernCategoryAdapter.read(in); break;
+                        case "CustomTags": value.CustomTags = PlayFabJson.readMap(in, stringAdapter); break;
+                        case "Entity": value.Entity = entityKeyAdapter.read(in); break;
+                        case "ItemId": value.ItemId = PlayFabJson.readString(in); break;
+                        case "Reason": value.Reason = PlayFabJson.readString(in); break;
+                        case "ReviewId": value.ReviewId = PlayFabJson.readString(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class ReportItemReviewResponseAdapter extends TypeAdapter<ReportItemReviewResponse> {
+        private ReportItemReviewResponseAdapter(Gson gson) {
+        }
+
+        @Override
+        public void write(JsonWriter out, ReportItemReviewResponse value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.endObject();
+        }
+
+        @Override
+        public ReportItemReviewResponse read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            ReportItemReviewResponse value = new ReportItemReviewResponse();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class ReviewAdapter extends TypeAdapter<Review> {
+        private final TypeAdapter<Date> dateAdapter;
+
+        private ReviewAdapter(Gson gson) {
+            dateAdapter = gson.getAdapter(Date.class);
+        }
+
+        @Override
+        public void write(JsonWriter out, Review value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.name("HelpfulNegative").value(value.HelpfulNegative);
+            out.name("HelpfulnessVotes").value(value.HelpfulnessVotes);
+            out.name("HelpfulPositive").value(value.HelpfulPositive);
+            out.name("IsInstalled").value(value.IsInstalled);
+            out.name("ItemId").value(value.ItemId);
+            out.name("ItemVersion").value(value.ItemVersion);
+            out.name("Locale").value(value.Locale);
+            out.name("Rating").value(value.Rating);
+            out.name("ReviewerId").value(value.ReviewerId);
+            out.name("ReviewId").value(value.ReviewId);
+            out.name("ReviewText").value(value.ReviewText);
+            dateAdapter.write(out.name("Submitted"), value.Submitted);
+            out.name("Title").value(value.Title);
+            out.endObject();
+        }
+
+        @Override
+        public Review read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            Review value = new Review();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "HelpfulNegative": value.HelpfulNegative = PlayFabJson.readInteger(in); break;
+                        case "HelpfulnessVotes": value.HelpfulnessVotes = PlayFabJson.readInteger(in); break;
+                        case "HelpfulPositive": value.HelpfulPositive = PlayFabJson.readInteger(in); break;
+                        case "IsInstalled": value.IsInstalled = PlayFabJson.readBoolean(in); break;
+                        case "ItemId": value.ItemId = PlayFabJson.readString(in); break;
+                        case "ItemVersion": value.ItemVersion = PlayFabJson.readString(in); break;
+                        case "Locale": value.Locale = PlayFabJson.readString(in); break;
+                        case "Rating": value.Rating = PlayFabJson.readInteger(in); break;
+                        case "ReviewerId": value.ReviewerId = PlayFabJson.readString(in); break;
+                        case "ReviewId": value.ReviewId = PlayFabJson.readString(in); break;
+                        case "ReviewText": value.ReviewText = PlayFabJson.readString(in); break;
+                        case "Submitted": value.Submitted = dateAdapter.read(in); break;
+                        case "Title": value.Title = PlayFabJson.readString(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class ReviewItemRequestAdapter extends TypeAdapter<ReviewItemRequest> {
+        private final TypeAdapter<CatalogAlternateId> catalogAlternateIdAdapter;
+        private final TypeAdapter<String> stringAdapter;
+        private final TypeAdapter<EntityKey> entityKeyAdapter;
+        private final TypeAdapter<Review> reviewAdapter;
+
+        private ReviewItemRequestAdapter(Gson gson) {
+            catalogAlternateIdAdapter = gson.getAdapter(CatalogAlternateId.class);
+            stringAdapter = gson.getAdapter(String.class);
+            entityKeyAdapter = gson.getAdapter(EntityKey.class);
+            reviewAdapter = gson.getAdapter(Review.class);
+        }
+
+        @Override
+        public void write(JsonWriter out, ReviewItemRequest value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            catalogAlternateIdAdapter.write(out.name("AlternateId"), value.AlternateId);
+            PlayFabJson.writeMap(out.name("CustomTags"), value.CustomTags, stringAdapter);
+            entityKeyAdapter.write(out.name("Entity"), value.Entity);
+            out.name("Id").value(value.Id);
+            reviewAdapter.write(out.name("Review"), value.Review);
+            out.endObject();
+        }
+
+        @Override
+        public ReviewItemRequest read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            ReviewItemRequest value = new ReviewItemRequest();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "AlternateId": value.AlternateId = catalogAlternateIdAdapter.read(in); break;
+                        case "CustomTags": value.CustomTags = PlayFabJson.readMap(in, stringAdapter); break;
+                        case "Entity": value.Entity = entityKeyAdapter.read(in); break;
+                        case "Id": value.Id = PlayFabJson.readString(in); break;
+                        case "Review": value.Review = reviewAdapter.read(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class ReviewItemResponseAdapter extends TypeAdapter<ReviewItemResponse> {
+        private ReviewItemResponseAdapter(Gson gson) {
+        }
+
+        @Override
+        public void write(JsonWriter out, ReviewItemResponse value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.endObject();
+        }
+
+        @Override
+        public ReviewItemResponse read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            ReviewItemResponse value = new ReviewItemResponse();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class ReviewTakedownAdapter extends TypeAdapter<ReviewTakedown> {
+        private final TypeAdapter<CatalogAlternateId> catalogAlternateIdAdapter;
+
+        private ReviewTakedownAdapter(Gson gson) {
+            catalogAlternateIdAdapter = gson.getAdapter(CatalogAlternateId.class);
+        }
+
+        @Override
+        public void write(JsonWriter out, ReviewTakedown value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            catalogAlternateIdAdapter.write(out.name("AlternateId"), value.AlternateId);
+            out.name("ItemId").value(value.ItemId);
+            out.name("ReviewId").value(value.ReviewId);
+            out.endObject();
+        }
+
+        @Override
+        public ReviewTakedown read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            ReviewTakedown value = new ReviewTakedown();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "AlternateId": value.AlternateId = catalogAlternateIdAdapter.read(in); break;
+                        case "ItemId": value.ItemId = PlayFabJson.readString(in); break;
+                        case "ReviewId": value.ReviewId = PlayFabJson.readString(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class ScanResultAdapter extends TypeAdapter<ScanResult> {
+        private ScanResultAdapter(Gson gson) {
+        }
+
+        @Override
+        public void write(JsonWriter out, ScanResult value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.name("Url").value(value.Url);
+            out.endObject();
+        }
+
+        @Override
+        public ScanResult read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            ScanResult value = new ScanResult();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "Url": value.Url = PlayFabJson.readString(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class SearchItemsRequestAdapter extends TypeAdapter<SearchItemsRequest> {
+        private final TypeAdapter<String> stringAdapter;
+        private final TypeAdapter<EntityKey> entityKeyAdapter;
+
+        private SearchItemsRequestAdapter(Gson gson) {
+            stringAdapter = gson.getAdapter(String.class);
+            entityKeyAdapter = gson.getAdapter(EntityKey.class);
+        }
+
+        @Override
+        public void write(JsonWriter out, SearchItemsRequest value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.name("ContinuationToken").value(value.ContinuationToken);
+            out.name("Count").value(value.Count);
+            PlayFabJson.writeMap(out.name("CustomTags"), value.CustomTags, stringAdapter);
+            entityKeyAdapter.write(out.name("Entity"), value.Entity);
+            out.name("Filter").value(value.Filter);
+            out.name("OrderBy").value(value.OrderBy);
+            out.name("Search").value(value.Search);
+            out.name("Select").value(value.Select);
+            out.endObject();
+        }
+
+        @Override
+        public SearchItemsRequest read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            SearchItemsRequest value = new SearchItemsRequest();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "ContinuationToken": value.ContinuationToken = PlayFabJson.readString(in); break;
+                        case "Count": value.Count = PlayFabJson.readInteger(in); break;
+                        case "CustomTags": value.CustomTags = PlayFabJson.readMap(in, stringAdapter); break;
+                        case "Entity": value.Entity = entityKeyAdapter.read(in); break;
+                        case "Filter": value.Filter = PlayFabJson.readString(in); break;
+                        case "OrderBy": value.OrderBy = PlayFabJson.readString(in); break;
+                        case "Search": value.Search = PlayFabJson.readString(in); break;
+                        case "Select": value.Select = PlayFabJson.readString(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class SearchItemsResponseAdapter extends TypeAdapter<SearchItemsResponse> {
+        private final TypeAdapter<CatalogItem> catalogItemAdapter;
+
+        private SearchItemsResponseAdapter(Gson gson) {
+            catalogItemAdapter = gson.getAdapter(CatalogItem.class);
+        }
+
+        @Override
+        public void write(JsonWriter out, SearchItemsResponse value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.name("ContinuationToken").value(value.ContinuationToken);
+            PlayFabJson.writeList(out.name("Items"), value.Items, catalogItemAdapter);
+            out.endObject();
+        }
+
+        @Override
+        public SearchItemsResponse read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            SearchItemsResponse value = new SearchItemsResponse();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "ContinuationToken": value.ContinuationToken = PlayFabJson.readString(in); break;
+                        case "Items": value.Items = PlayFabJson.readList(in, catalogItemAdapter); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class SetItemModerationStateRequestAdapter extends TypeAdapter<SetItemModerationStateRequest> {
+        private final TypeAdapter<CatalogAlternateId> catalogAlternateIdAdapter;
+        private final TypeAdapter<String> stringAdapter;
+        private final TypeAdapter<ModerationStatus> moderationStatusAdapter;
+
+        private SetItemModerationStateRequestAdapter(Gson gson) {
+            catalogAlternateIdAdapter = gson.getAdapter(CatalogAlternateId.class);
+            stringAdapter = gson.getAdapter(String.class);
+            moderationStatusAdapter = gson.getAdapter(ModerationStatus.class);
+        }
+
+        @Override
+        public void write(JsonWriter out, SetItemModerationStateRequest value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            catalogAlternateIdAdapter.write(out.name("AlternateId"), value.AlternateId);
+            PlayFabJson.writeMap(out.name("CustomTags"), value.CustomTags, stringAdapter);
+            out.name("Id").value(value.Id);
+            out.name("Reason").value(value.Reason);
+            moderationStatusAdapter.write(out.name("Status"), value.Status);
+            out.endObject();
+        }
+
+        @Override
+        public SetItemModerationStateRequest read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            SetItemModerationStateRequest value = new SetItemModerationStateRequest();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "AlternateId": value.AlternateId = catalogAlternateIdAdapter.read(in); break;
+                        case "CustomTags": value.CustomTags = PlayFabJson.readMap(in, stringAdapter); break;
+                        case "Id": value.Id = PlayFabJson.readString(in); break;
+                        case "Reason": value.Reason = PlayFabJson.readString(in); break;
+                        case "Status": value.Status = moderationStatusAdapter.read(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class SetItemModerationStateResponseAdapter extends TypeAdapter<SetItemModerationStateResponse> {
+        private SetItemModerationStateResponseAdapter(Gson gson) {
+        }
+
+        @Override
+        public void write(JsonWriter out, SetItemModerationStateResponse value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.endObject();
+        }
+
+        @Override
+        public SetItemModerationStateResponse read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            SetItemModerationStateResponse value = new SetItemModerationStateResponse();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class SubmitItemReviewVoteRequestAdapter extends TypeAdapter<SubmitItemReviewVoteRequest> {
+        private final TypeAdapter<CatalogAlternateId> catalogAlternateIdAdapter;
+        private final TypeAdapter<String> stringAdapter;
+        private final TypeAdapter<EntityKey> entityKeyAdapter;
+        private final TypeAdapter<HelpfulnessVote> helpfulnessVoteAdapter;
+
+        private SubmitItemReviewVoteRequestAdapter(Gson gson) {
+            catalogAlternateIdAdapter = gson.getAdapter(CatalogAlternateId.class);
+            stringAdapter = gson.getAdapter(String.class);
+            entityKeyAdapter = gson.getAdapter(EntityKey.class);
+            helpfulnessVoteAdapter = gson.getAdapter(HelpfulnessVote.class);
+        }
+
+        @Override
+        public void write(JsonWriter out, SubmitItemReviewVoteRequest value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            catalogAlternateIdAdapter.write(out.name("AlternateId"), value.AlternateId);
+            PlayFabJson.writeMap(out.name("CustomTags"), value.CustomTags, stringAdapter);
+            entityKeyAdapter.write(out.name("Entity"), value.Entity);
+            out.name("ItemId").value(value.ItemId);
+            out.name("ReviewId").value(value.ReviewId);
+            helpfulnessVoteAdapter.write(out.name("Vote"), value.Vote);
+            out.endObject();
+        }
+
+        @Override
+        public SubmitItemReviewVoteRequest read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            SubmitItemReviewVoteRequest value = new SubmitItemReviewVoteRequest();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "AlternateId": value.AlternateId = catalogAlternateIdAdapter.read(in); break;
+                        case "CustomTags": value.CustomTags = PlayFabJson.readMap(in, stringAdapter); break;
+                        case "Entity": value.Entity = entityKeyAdapter.read(in); break;
+                        case "ItemId": value.ItemId = PlayFabJson.readString(in); break;
+                        case "ReviewId": value.ReviewId = PlayFabJson.readString(in); break;
+                        case "Vote": value.Vote = helpfulnessVoteAdapter.read(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class SubmitItemReviewVoteResponseAdapter extends TypeAdapter<SubmitItemReviewVoteResponse> {
+        private SubmitItemReviewVoteResponseAdapter(Gson gson) {
+        }
+
+        @Override
+        public void write(JsonWriter out, SubmitItemReviewVoteResponse value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.endObject();
+        }
+
+        @Override
+        public SubmitItemReviewVoteResponse read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            SubmitItemReviewVoteResponse value = new SubmitItemReviewVoteResponse();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class TakedownItemReviewsRequestAdapter extends TypeAdapter<TakedownItemReviewsRequest> {
+        private final TypeAdapter<String> stringAdapter;
+        private final TypeAdapter<ReviewTakedown> reviewTakedownAdapter;
+
+        private TakedownItemReviewsRequestAdapter(Gson gson) {
+            stringAdapter = gson.getAdapter(String.class);
+            reviewTakedownAdapter = gson.getAdapter(ReviewTakedown.class);
+        }
+
+        @Override
+        public void write(JsonWriter out, TakedownItemReviewsRequest value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            PlayFabJson.writeMap(out.name("CustomTags"), value.CustomTags, stringAdapter);
+            PlayFabJson.writeList(out.name("Reviews"), value.Reviews, reviewTakedownAdapter);
+            out.endObject();
+        }
+
+        @Override
+        public TakedownItemReviewsRequest read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            TakedownItemReviewsRequest value = new TakedownItemReviewsRequest();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "CustomTags": value.CustomTags = PlayFabJson.readMap(in, stringAdapter); break;
+                        case "Reviews": value.Reviews = PlayFabJson.readList(in, reviewTakedownAdapter); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class TakedownItemReviewsResponseAdapter extends TypeAdapter<TakedownItemReviewsResponse> {
+        private TakedownItemReviewsResponseAdapter(Gson gson) {
+        }
+
+        @Override
+        public void write(JsonWriter out, TakedownItemReviewsResponse value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.endObject();
+        }
+
+        @Override
+        public TakedownItemReviewsResponse read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            TakedownItemReviewsResponse value = new TakedownItemReviewsResponse();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class UpdateCatalogConfigRequestAdapter extends TypeAdapter<UpdateCatalogConfigRequest> {
+        private final TypeAdapter<CatalogConfig> catalogConfigAdapter;
+        private final TypeAdapter<String> stringAdapter;
+
+        private UpdateCatalogConfigRequestAdapter(Gson gson) {
+            catalogConfigAdapter = gson.getAdapter(CatalogConfig.class);
+            stringAdapter = gson.getAdapter(String.class);
+        }
+
+        @Override
+        public void write(JsonWriter out, UpdateCatalogConfigRequest value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            catalogConfigAdapter.write(out.name("Config"), value.Config);
+            PlayFabJson.writeMap(out.name("CustomTags"), value.CustomTags, stringAdapter);
+            out.endObject();
+        }
+
+        @Override
+        public UpdateCatalogConfigRequest read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            UpdateCatalogConfigRequest value = new UpdateCatalogConfigRequest();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "Config": value.Config = catalogConfigAdapter.read(in); break;
+                        case "CustomTags": value.CustomTags = PlayFabJson.readMap(in, stringAdapter); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class UpdateCatalogConfigResponseAdapter extends TypeAdapter<UpdateCatalogConfigResponse> {
+        private UpdateCatalogConfigResponseAdapter(Gson gson) {
+        }
+
+        @Override
+        public void write(JsonWriter out, UpdateCatalogConfigResponse value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.endObject();
+        }
+
+        @Override
+        public UpdateCatalogConfigResponse read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            UpdateCatalogConfigResponse value = new UpdateCatalogConfigResponse();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class UpdateDraftItemRequestAdapter extends TypeAdapter<UpdateDraftItemRequest> {
+        private final TypeAdapter<String> stringAdapter;
+        private final TypeAdapter<CatalogItem> catalogItemAdapter;
+
+        private UpdateDraftItemRequestAdapter(Gson gson) {
+            stringAdapter = gson.getAdapter(String.class);
+            catalogItemAdapter = gson.getAdapter(CatalogItem.class);
+        }
+
+        @Override
+        public void write(JsonWriter out, UpdateDraftItemRequest value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            PlayFabJson.writeMap(out.name("CustomTags"), value.CustomTags, stringAdapter);
+            catalogItemAdapter.write(out.name("Item"), value.Item);
+            out.name("Publish").value(value.Publish);
+            out.endObject();
+        }
+
+        @Override
+        public UpdateDraftItemRequest read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            UpdateDraftItemRequest value = new UpdateDraftItemRequest();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "CustomTags": value.CustomTags = PlayFabJson.readMap(in, stringAdapter); break;
+                        case "Item": value.Item = catalogItemAdapter.read(in); break;
+                        case "Publish": value.Publish = PlayFabJson.readBoolean(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class UpdateDraftItemResponseAdapter extends TypeAdapter<UpdateDraftItemResponse> {
+        private final TypeAdapter<CatalogItem> catalogItemAdapter;
+
+        private UpdateDraftItemResponseAdapter(Gson gson) {
+            catalogItemAdapter = gson.getAdapter(CatalogItem.class);
+        }
+
+        @Override
+        public void write(JsonWriter out, UpdateDraftItemResponse value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            catalogItemAdapter.write(out.name("Item"), value.Item);
+            out.endObject();
+        }
+
+        @Override
+        public UpdateDraftItemResponse read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            UpdateDraftItemResponse value = new UpdateDraftItemResponse();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "Item": value.Item = catalogItemAdapter.read(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class UploadInfoAdapter extends TypeAdapter<UploadInfo> {
+        private UploadInfoAdapter(Gson gson) {
+        }
+
+        @Override
+        public void write(JsonWriter out, UploadInfo value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.name("FileName").value(value.FileName);
+            out.endObject();
+        }
+
+        @Override
+        public UploadInfo read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            UploadInfo value = new UploadInfo();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "FileName": value.FileName = PlayFabJson.readString(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class UploadUrlMetadataAdapter extends TypeAdapter<UploadUrlMetadata> {
+        private UploadUrlMetadataAdapter(Gson gson) {
+        }
+
+        @Override
+        public void write(JsonWriter out, UploadUrlMetadata value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.name("FileName").value(value.FileName);
+            out.name("Id").value(value.Id);
+            out.name("Url").value(value.Url);
+            out.endObject();
+        }
+
+        @Override
+        public UploadUrlMetadata read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            UploadUrlMetadata value = new UploadUrlMetadata();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "FileName": value.FileName = PlayFabJson.readString(in); break;
+                        case "Id": value.Id = PlayFabJson.readString(in); break;
+                        case "Url": value.Url = PlayFabJson.readString(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class UserGeneratedContentSpecificConfigAdapter extends TypeAdapter<UserGeneratedContentSpecificConfig> {
+        private final TypeAdapter<String> stringAdapter;
+
+        private UserGeneratedContentSpecificConfigAdapter(Gson gson) {
+            stringAdapter = gson.getAdapter(String.class);
+        }
+
+        @Override
+        public void write(JsonWriter out, UserGeneratedContentSpecificConfig value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            PlayFabJson.writeList(out.name("ContentTypes"), value.ContentTypes, stringAdapter);
+            PlayFabJson.writeList(out.name("Tags"), value.Tags, stringAdapter);
+            out.endObject();
+        }
+
+        @Override
+        public UserGeneratedContentSpecificConfig read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            UserGeneratedContentSpecificConfig value = new UserGeneratedContentSpecificConfig();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "ContentTypes": value.ContentTypes = PlayFabJson.readList(in, stringAdapter); break;
+                        case "Tags": value.Tags = PlayFabJson.readList(in, stringAdapter); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+}
@@ -6,12 +6,10 @@ import com.playfab.PlayFabErrors.*;
 import com.playfab.PlayFabSettings;
 import java.util.concurrent.*;
 import java.util.*;
-import com.google.gson.*;
-import com.google.gson.reflect.*;
 
     /** APIs for managing experiments. */
 public class PlayFabExperimentationAPI {
-    private static Gson gson = new GsonBuilder().setDateFormat("yyyy-MM-dd'T'HH:mm:ss.SSS'Z'").create();
+    private static final Async async = new Async();
 
     /**
      * Creates a new experiment exclusion group for a title.
@@ -22,7 +20,7 @@ public class PlayFabExperimentationAPI {
     public static FutureTask<PlayFabResult<CreateExclusionGroupResult>> CreateExclusionGroupAsync(final CreateExclusionGroupRequest request) {
         return new FutureTask(new Callable<PlayFabResult<CreateExclusionGroupResult>>() {
             public PlayFabResult<CreateExclusionGroupResult> call() throws Exception {
-                return privateCreateExclusionGroupAsync(request);
+                return privateCreateExclusionGroupAsync(null, request);
             }
         });
     }
@@ -36,7 +34,7 @@ public class PlayFabExperimentationAPI {
     public static PlayFabResult<CreateExclusionGroupResult> CreateExclusionGroup(final CreateExclusionGroupRequest request) {
         FutureTask<PlayFabResult<CreateExclusionGroupResult>> task = new FutureTask(new Callable<PlayFabResult<CreateExclusionGroupResult>>() {
             public PlayFabResult<CreateExclusionGroupResult> call() throws Exception {
-                return privateCreateExclusionGroupAsync(request);
+                return privateCreateExclusionGroupAsync(null, request);
             }
         });
         try {
@@ -51,10 +49,12 @@ public class PlayFabExperimentationAPI {
 
     /** Creates a new experiment exclusion group for a title. */
     @SuppressWarnings("unchecked")
-    private static PlayFabResult<CreateExclusionGroupResult> privateCreateExclusionGroupAsync(final CreateExclusionGroupRequest request) throws Exception {
-        if (PlayFabSettings.EntityToken == null) throw new Exception ("Must call GetEntityToken before you can use the Entity API");
+    static PlayFabResult<CreateExclusionGroupResult> privateCreateExclusionGroupAsync(final PlayFabInstanceAPI instance, final CreateExclusionGroupRequest request) throws Exception {
+        final PlayFabApiContext context = PlayFabInstanceAPI.contextOf(instance);
+        final String entityToken = context.getEntityToken();
+        if (entityToken == null) throw new Exception ("Must call GetEntityToken before you can use the Entity API");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Experimentation/CreateExclusionGroup"), request, "X-EntityToken", PlayFabSettings.EntityToken);
+        FutureTask<Object> task = PlayFabHTTP.doPost(context.getURL("/Experimentation/CreateExclusionGroup"), request, "X-EntityToken", entityToken, CreateExclusionGroupResult.class);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -65,9 +65,7 @@ public class PlayFabExperimentationAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
-
-        PlayFabJsonSuccess<CreateExclusionGroupResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<CreateExclusionGroupResult>>(){}.getType());
+        PlayFabJsonSuccess<CreateExclusionGroupResult> resultData = (PlayFabJsonSuccess<CreateExclusionGroupResult>) httpResult;
         CreateExclusionGroupResult result = resultData.data;
 
         PlayFabResult<CreateExclusionGroupResult> pfResult = new PlayFabResult<CreateExclusionGroupResult>();
@@ -84,7 +82,7 @@ public class PlayFabExperimentationAPI {
     public static FutureTask<PlayFabResult<CreateExperimentResult>> CreateExperimentAsync(final CreateExperimentRequest request) {
         return new FutureTask(new Callable<PlayFabResult<CreateExperimentResult>>() {
             public PlayFabResult<CreateExperimentResult> call() throws Exception {
-                return privateCreateExperimentAsync(request);
+                return privateCreateExperimentAsync(null, request);
             }
         });
     }
@@ -98,7 +96,7 @@ public class PlayFabExperimentationAPI {
     public static PlayFabResult<CreateExperimentResult> CreateExperiment(final CreateExperimentRequest request) {
         FutureTask<PlayFabResult<CreateExperimentResult>> task = new FutureTask(new Callable<PlayFabResult<CreateExperimentResult>>() {
             public PlayFabResult<CreateExperimentResult> call() throws Exception {
-                return privateCreateExperimentAsync(request);
+                return privateCreateExperimentAsync(null, request);
             }
         });
         try {
@@ -113,10 +111,12 @@ public class PlayFabExperimentationAPI {
 
     /** Creates a new experiment for a title. */
     @SuppressWarnings("unchecked")
-    private static PlayFabResult<CreateExperimentResult> privateCreateExperimentAsync(final CreateExperimentRequest request) throws Exception {
-        if (PlayFabSettings.EntityToken == null) throw new Exception ("Must call GetEntityToken before you can use the Entity API");
+    static PlayFabResult<CreateExperimentResult> privateCreateExperimentAsync(final PlayFabInstanceAPI instance, final CreateExperimentRequest request) throws Exception {
+        final PlayFabApiContext context = PlayFabInstanceAPI.contextOf(instance);
+        final String entityToken = context.getEntityToken();
+        if (entityToken == null) throw new Exception ("Must call GetEntityToken before you can use the Entity API");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Experimentation/CreateExperiment"), request, "X-EntityToken", PlayFabSettings.EntityToken);
+        FutureTask<Object> task = PlayFabHTTP.doPost(context.getURL("/Experimentation/CreateExperiment"), request, "X-EntityToken", entityToken, CreateExperimentResult.class);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -127,9 +127,7 @@ public class PlayFabExperimentationAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
-
-        PlayFabJsonSuccess<CreateExperimentResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<CreateExperimentResult>>(){}.getType());
+        PlayFabJsonSuccess<CreateExperimentResult> resultData = (PlayFabJsonSuccess<CreateExperimentResult>) httpResult;
         CreateExperimentResult result = resultData.data;
 
         PlayFabResult<CreateExperimentResult> pfResult = new PlayFabResult<CreateExperimentResult>();
@@ -146,7 +144,7 @@ public class PlayFabExperimentationAPI {
     public static FutureTask<PlayFabResult<EmptyResponse>> DeleteExclusionGroupAsync(final DeleteExclusionGroupRequest request) {
         return new FutureTask(new Callable<PlayFabResult<EmptyResponse>>() {
             public PlayFabResult<EmptyResponse> call() throws Exception {
-                return privateDeleteExclusionGroupAsync(request);
+                return privateDeleteExclusionGroupAsync(null, request);
             }
         });
     }
@@ -160,7 +158,7 @@ public class PlayFabExperimentationAPI {
     public static PlayFabResult<EmptyResponse> DeleteExclusionGroup(final DeleteExclusionGroupRequest request) {
         FutureTask<PlayFabResult<EmptyResponse>> task = new FutureTask(new Callable<PlayFabResult<EmptyResponse>>() {
             public PlayFabResult<EmptyResponse> call() throws Exception {
-                return privateDeleteExclusionGroupAsync(request);
+                return privateDeleteExclusionGroupAsync(null, request);
             }
         });
         try {
@@ -175,10 +173,12 @@ public class PlayFabExperimentationAPI {
 
     /** Deletes an existing exclusion group for a title. */
     @SuppressWarnings("unchecked")
-    private static PlayFabResult<EmptyResponse> privateDeleteExclusionGroupAsync(final DeleteExclusionGroupRequest request) throws Exception {
-        if (PlayFabSettings.EntityToken == null) throw new Exception ("Must call GetEntityToken before you can use the Entity API");
+    static PlayFabResult<EmptyResponse> privateDeleteExclusionGroupAsync(final PlayFabInstanceAPI instance, final DeleteExclusionGroupRequest request) throws Exception {
+        final PlayFabApiContext context = PlayFabInstanceAPI.contextOf(instance);
+        final String entityToken = context.getEntityToken();
+        if (entityToken == null) throw new Exception ("Must call GetEntityToken before you can use the Entity API");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Experimentation/DeleteExclusionGroup"), request, "X-EntityToken", PlayFabSettings.EntityToken);
+        FutureTask<Object> task = PlayFabHTTP.doPost(context.getURL("/Experimentation/DeleteExclusionGroup"), request, "X-EntityToken", entityToken, EmptyResponse.class);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -189,9 +189,7 @@ public class PlayFabExperimentationAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
-
-        PlayFabJsonSuccess<EmptyResponse> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<EmptyResponse>>(){}.getType());
+        PlayFabJsonSuccess<EmptyResponse> resultData = (PlayFabJsonSuccess<EmptyResponse>) httpResult;
         EmptyResponse result = resultData.data;
 
         PlayFabResult<EmptyResponse> pfResult = new PlayFabResult<EmptyResponse>();
@@ -208,7 +206,7 @@ public class PlayFabExperimentationAPI {
     public static FutureTask<PlayFabResult<EmptyResponse>> DeleteExperimentAsync(final DeleteExperimentRequest request) {
         return new FutureTask(new Callable<PlayFabResult<EmptyResponse>>() {
             public PlayFabResult<EmptyResponse> call() throws Exception {
-                return privateDeleteExperimentAsync(request);
+                return privateDeleteExperimentAsync(null, request);
             }
         });
     }
@@ -222,7 +220,7 @@ public class PlayFabExperimentationAPI {
     public static PlayFabResult<EmptyResponse> DeleteExperiment(final DeleteExperimentRequest request) {
         FutureTask<PlayFabResult<EmptyResponse>> task = new FutureTask(new Callable<PlayFabResult<EmptyResponse>>() {
             public PlayFabResult<EmptyResponse> call() throws Exception {
-                return privateDeleteExperimentAsync(request);
+                return privateDeleteExperimentAsync(null, request);
             }
         });
         try {
@@ -237,10 +235,12 @@ public class PlayFabExperimentationAPI {
 
     /** Deletes an existing experiment for a title. */
     @SuppressWarnings("unchecked")
-    private static PlayFabResult<EmptyResponse> privateDeleteExperimentAsync(final DeleteExperimentRequest request) throws Exception {
-        if (PlayFabSettings.EntityToken == null) throw new Exception ("Must call GetEntityToken before you can use the Entity API");
+    static PlayFabResult<EmptyResponse> privateDeleteExperimentAsync(final PlayFabInstanceAPI instance, final DeleteExperimentRequest request) throws Exception {
+        final PlayFabApiContext context = PlayFabInstanceAPI.contextOf(instance);
+        final String entityToken = context.getEntityToken();
+        if (entityToken == null) throw new Exception ("Must call GetEntityToken before you can use the Entity API");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Experimentation/DeleteExperiment"), request, "X-EntityToken", PlayFabSettings.EntityToken);
+        FutureTask<Object> task = PlayFabHTTP.doPost(context.getURL("/Experimentation/DeleteExperiment"), request, "X-EntityToken", entityToken, EmptyResponse.class);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -251,9 +251,7 @@ public class PlayFabExperimentationAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
-
-        PlayFabJsonSuccess<EmptyResponse> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<EmptyResponse>>(){}.getType());
+        PlayFabJsonSuccess<EmptyResponse> resultData = (PlayFabJsonSuccess<EmptyResponse>) httpResult;
         EmptyResponse result = resultData.data;
 
         PlayFabResult<EmptyResponse> pfResult = new PlayFabResult<EmptyResponse>();
@@ -270,7 +268,7 @@ public class PlayFabExperimentationAPI {
     public static FutureTask<PlayFabResult<GetExclusionGroupsResult>> GetExclusionGroupsAsync(final GetExclusionGroupsRequest request) {
         return new FutureTask(new Callable<PlayFabResult<GetExclusionGroupsResult>>() {
             public PlayFabResult<GetExclusionGroupsResult> call() throws Exception {
-                return privateGetExclusionGroupsAsync(request);
+                return privateGetExclusionGroupsAsync(null, request);
             }
         });
     }
@@ -284,7 +282,7 @@ public class PlayFabExperimentationAPI {
     public static PlayFabResult<GetExclusionGroupsResult> GetExclusionGroups(final GetExclusionGroupsRequest request) {
         FutureTask<PlayFabResult<GetExclusionGroupsResult>> task = new FutureTask(new Callable<PlayFabResult<GetExclusionGroupsResult>>() {
             public PlayFabResult<GetExclusionGroupsResult> call() throws Exception {
-                return privateGetExclusionGroupsAsync(request);
+                return privateGetExclusionGroupsAsync(null, request);
             }
         });
         try {
@@ -299,10 +297,12 @@ public class PlayFabExperimentationAPI {
 
     /** Gets the details of all exclusion groups for a title. */
     @SuppressWarnings("unchecked")
-    private static PlayFabResult<GetExclusionGroupsResult> privateGetExclusionGroupsAsync(final GetExclusionGroupsRequest request) throws Exception {
-        if (PlayFabSettings.EntityToken == null) throw new Exception ("Must call GetEntityToken before you can use the Entity API");
+    static PlayFabResult<GetExclusionGroupsResult> privateGetExclusionGroupsAsync(final PlayFabInstanceAPI instance, final GetExclusionGroupsRequest request) throws Exception {
+        final PlayFabApiContext context = PlayFabInstanceAPI.contextOf(instance);
+        final String entityToken = context.getEntityToken();
+        if (entityToken == null) throw new Exception ("Must call GetEntityToken before you can use the Entity API");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Experimentation/GetExclusionGroups"), request, "X-EntityToken", PlayFabSettings.EntityToken);
+        FutureTask<Object> task = PlayFabHTTP.doPost(context.getURL("/Experimentation/GetExclusionGroups"), request, "X-EntityToken", entityToken, GetExclusionGroupsResult.class);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -313,9 +313,7 @@ public class PlayFabExperimentationAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
-
-        PlayFabJsonSuccess<GetExclusionGroupsResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<GetExclusionGroupsResult>>(){}.getType());
+        PlayFabJsonSuccess<GetExclusionGroupsResult> resultData = (PlayFabJsonSuccess<GetExclusionGroupsResult>) httpResult;
         GetExclusionGroupsResult result = resultData.data;
 
         PlayFabResult<GetExclusionGroupsResult> pfResult = new PlayFabResult<GetExclusionGroupsResult>();
@@ -332,7 +330,7 @@ public class PlayFabExperimentationAPI {
     public static FutureTask<PlayFabResult<GetExclusionGroupTrafficResult>> GetExclusionGroupTrafficAsync(final GetExclusionGroupTrafficRequest request) {
         return new FutureTask(new Callable<PlayFabResult<GetExclusionGroupTrafficResult>>() {
             public PlayFabResult<GetExclusionGroupTrafficResult> call() throws Exception {
-                return privateGetExclusionGroupTrafficAsync(request);
+                return privateGetExclusionGroupTrafficAsync(null, request);
             }
         });
     }
@@ -346,7 +344,7 @@ public class PlayFabExperimentationAPI {
     public static PlayFabResult<GetExclusionGroupTrafficResult> GetExclusionGroupTraffic(final GetExclusionGroupTrafficRequest request) {
         FutureTask<PlayFabResult<GetExclusionGroupTrafficResult>> task = new FutureTask(new Callable<PlayFabResult<GetExclusionGroupTrafficResult>>() {
             public PlayFabResult<GetExclusionGroupTrafficResult> call() throws Exception {
-                return privateGetExclusionGroupTrafficAsync(request);
+                return privateGetExclusionGroupTrafficAsync(null, request);
             }
         });
         try {
@@ -361,10 +359,12 @@ public class PlayFabExperimentationAPI {
 
     /** Gets the details of all exclusion groups for a title. */
     @SuppressWarnings("unchecked")
-    private static PlayFabResult<GetExclusionGroupTrafficResult> privateGetExclusionGroupTrafficAsync(final GetExclusionGroupTrafficRequest request) throws Exception {
-        if (PlayFabSettings.EntityToken == null) throw new Exception ("Must call GetEntityToken before you can use the Entity API");
+    static PlayFabResult<GetExclusionGroupTrafficResult> privateGetExclusionGroupTrafficAsync(final PlayFabInstanceAPI instance, final GetExclusionGroupTrafficRequest request) throws Exception {
+        final PlayFabApiContext context = PlayFabInstanceAPI.contextOf(instance);
+        final String entityToken = context.getEntityToken();
+        if (entityToken == null) throw new Exception ("Must call GetEntityToken before you can use the Entity API");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Experimentation/GetExclusionGroupTraffic"), request, "X-EntityToken", PlayFabSettings.EntityToken);
+        FutureTask<Object> task = PlayFabHTTP.doPost(context.getURL("/Experimentation/GetExclusionGroupTraffic"), request, "X-EntityToken", entityToken, GetExclusionGroupTrafficResult.class);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -375,9 +375,7 @@ public class PlayFabExperimentationAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
-
-        PlayFabJsonSuccess<GetExclusionGroupTrafficResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<GetExclusionGroupTrafficResult>>(){}.getType());
+        PlayFabJsonSuccess<GetExclusionGroupTrafficResult> resultData = (PlayFabJsonSuccess<GetExclusionGroupTrafficResult>) httpResult;
         GetExclusionGroupTrafficResult result = resultData.data;
 
         PlayFabResult<GetExclusionGroupTrafficResult> pfResult = new PlayFabResult<GetExclusionGroupTrafficResult>();
@@ -394,7 +392,7 @@ public class PlayFabExperimentationAPI {
     public static FutureTask<PlayFabResult<GetExperimentsResult>> GetExperimentsAsync(final GetExperimentsRequest request) {
         return new FutureTask(new Callable<PlayFabResult<GetExperimentsResult>>() {
             public PlayFabResult<GetExperimentsResult> call() throws Exception {
-                return privateGetExperimentsAsync(request);
+                return privateGetExperimentsAsync(null, request);
             }
         });
     }
@@ -408,7 +406,7 @@ public class PlayFabExperimentationAPI {
     public static PlayFabResult<GetExperimentsResult> GetExperiments(final GetExperimentsRequest request) {
         FutureTask<PlayFabResult<GetExperimentsResult>> task = new FutureTask(new Callable<PlayFabResult<GetExperimentsResult>>() {
             public PlayFabResult<GetExperimentsResult> call() throws Exception {
-                return privateGetExperimentsAsync(request);
+                return privateGetExperimentsAsync(null, request);
             }
         });
         try {
@@ -423,10 +421,12 @@ public class PlayFabExperimentationAPI {
 
     /** Gets the details of all experiments for a title. */
     @SuppressWarnings("unchecked")
-    private static PlayFabResult<GetExperimentsResult> privateGetExperimentsAsync(final GetExperimentsRequest request) throws Exception {
-        if (PlayFabSettings.EntityToken == null) throw new Exception ("Must call GetEntityToken before you can use the Entity API");
+    static PlayFabResult<GetExperimentsResult> privateGetExperimentsAsync(final PlayFabInstanceAPI instance, final GetExperimentsRequest request) throws Exception {
+        final PlayFabApiContext context = PlayFabInstanceAPI.contextOf(instance);
+        final String entityToken = context.getEntityToken();
+        if (entityToken == null) throw new Exception ("Must call GetEntityToken before you can use the Entity API");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Experimentation/GetExperiments"), request, "X-EntityToken", PlayFabSettings.EntityToken);
+        FutureTask<Object> task = PlayFabHTTP.doPost(context.getURL("/Experimentation/GetExperiments"), request, "X-EntityToken", entityToken, GetExperimentsResult.class);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -437,9 +437,7 @@ public class PlayFabExperimentationAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
-
-        PlayFabJsonSuccess<GetExperimentsResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<GetExperimentsResult>>(){}.getType());
+        PlayFabJsonSuccess<GetExperimentsResult> resultData = (PlayFabJsonSuccess<GetExperimentsResult>) httpResult;
         GetExperimentsResult result = resultData.data;
 
         PlayFabResult<GetExperimentsResult> pfResult = new PlayFabResult<GetExperimentsResult>();
@@ -456,7 +454,7 @@ public class PlayFabExperimentationAPI {
     public static FutureTask<PlayFabResult<GetLatestScorecardResult>> GetLatestScorecardAsync(final GetLatestScorecardRequest request) {
         return new FutureTask(new Callable<PlayFabResult<GetLatestScorecardResult>>() {
             public PlayFabResult<GetLatestScorecardResult> call() throws Exception {
-                return privateGetLatestScorecardAsync(request);
+                return privateGetLatestScorecardAsync(null, request);
             }
         });
     }
@@ -470,7 +468,7 @@ public class PlayFabExperimentationAPI {
     public static PlayFabResult<GetLatestScorecardResult> GetLatestScorecard(final GetLatestScorecardRequest request) {
         FutureTask<PlayFabResult<GetLatestScorecardResult>> task = new FutureTask(new Callable<PlayFabResult<GetLatestScorecardResult>>() {
             public PlayFabResult<GetLatestScorecardResult> call() throws Exception {
-                return privateGetLatestScorecardAsync(request);
+                return privateGetLatestScorecardAsync(null, request);
             }
         });
         try {
@@ -485,10 +483,12 @@ public class PlayFabExperimentationAPI {
 
     /** Gets the latest scorecard of the experiment for the title. */
     @SuppressWarnings("unchecked")
-    private static PlayFabResult<GetLatestScorecardResult> privateGetLatestScorecardAsync(final GetLatestScorecardRequest request) throws Exception {
-        if (PlayFabSettings.EntityToken == null) throw new Exception ("Must call GetEntityToken before you can use the Entity API");
+    static PlayFabResult<GetLatestScorecardResult> privateGetLatestScorecardAsync(final PlayFabInstanceAPI instance, final GetLatestScorecardRequest request) throws Exception {
+        final PlayFabApiContext context = PlayFabInstanceAPI.contextOf(instance);
+        final String entityToken = context.getEntityToken();
+        if (entityToken == null) throw new Exception ("Must call GetEntityToken before you can use the Entity API");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Experimentation/GetLatestScorecard"), request, "X-EntityToken", PlayFabSettings.EntityToken);
+        FutureTask<Object> task = PlayFabHTTP.doPost(context.getURL("/Experimentation/GetLatestScorecard"), request, "X-EntityToken", entityToken, GetLatestScorecardResult.class);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -499,9 +499,7 @@ public class PlayFabExperimentationAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
-
-        PlayFabJsonSuccess<GetLatestScorecardResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<GetLatestScorecardResult>>(){}.getType());
+        PlayFabJsonSuccess<GetLatestScorecardResult> resultData = (PlayFabJsonSuccess<GetLatestScorecardResult>) httpResult;
         GetLatestScorecardResult result = resultData.data;
 
         PlayFabResult<GetLatestScorecardResult> pfResult = new PlayFabResult<GetLatestScorecardResult>();
@@ -518,7 +516,7 @@ public class PlayFabExperimentationAPI {
     public static FutureTask<PlayFabResult<GetTreatmentAssignmentResult>> GetTreatmentAssignmentAsync(final GetTreatmentAssignmentRequest request) {
         return new FutureTask(new Callable<PlayFabResult<GetTreatmentAssignmentResult>>() {
             public PlayFabResult<GetTreatmentAssignmentResult> call() throws Exception {
-                return privateGetTreatmentAssignmentAsync(request);
+                return privateGetTreatmentAssignmentAsync(null, request);
             }
         });
     }
@@ -532,7 +530,7 @@ public class PlayFabExperimentationAPI {
     public static PlayFabResult<GetTreatmentAssignmentResult> GetTreatmentAssignment(final GetTreatmentAssignmentRequest request) {
         FutureTask<PlayFabResult<GetTreatmentAssignmentResult>> task = new FutureTask(new Callable<PlayFabResult<GetTreatmentAssignmentResult>>() {
             public PlayFabResult<GetTreatmentAssignmentResult> call() throws Exception {
-                return privateGetTreatmentAssignmentAsync(request);
+                return privateGetTreatmentAssignmentAsync(null, request);
             }
         });
         try {
@@ -547,10 +545,12 @@ public class PlayFabExperimentationAPI {
 
     /** Gets the treatment assignments for a player for every running experiment in the title. */
     @SuppressWarnings("unchecked")
-    private static PlayFabResult<GetTreatmentAssignmentResult> privateGetTreatmentAssignmentAsync(final GetTreatmentAssignmentRequest request) throws Exception {
-        if (PlayFabSettings.EntityToken == null) throw new Exception ("Must call GetEntityToken before you can use the Entity API");
+    static PlayFabResult<GetTreatmentAssignmentResult> privateGetTreatmentAssignmentAsync(final PlayFabInstanceAPI instance, final GetTreatmentAssignmentRequest request) throws Exception {
+        final PlayFabApiContext context = PlayFabInstanceAPI.contextOf(instance);
+        final String entityToken = context.getEntityToken();
+        if (entityToken == null) throw new Exception ("Must call GetEntityToken before you can use the Entity API");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Experimentation/GetTreatmentAssignment"), request, "X-EntityToken", PlayFabSettings.EntityToken);
+        FutureTask<Object> task = PlayFabHTTP.doPost(context.getURL("/Experimentation/GetTreatmentAssignment"), request, "X-EntityToken", entityToken, GetTreatmentAssignmentResult.class);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -561,9 +561,7 @@ public class PlayFabExperimentationAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
-
-        PlayFabJsonSuccess<GetTreatmentAssignmentResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<GetTreatmentAssignmentResult>>(){}.getType());
+        PlayFabJsonSuccess<GetTreatmentAssignmentResult> resultData = (PlayFabJsonSuccess<GetTreatmentAssignmentResult>) httpResult;
         GetTreatmentAssignmentResult result = resultData.data;
 
         PlayFabResult<GetTreatmentAssignmentResult> pfResult = new PlayFabResult<GetTreatmentAssignmentResult>();
@@ -580,7 +578,7 @@ public class PlayFabExperimentationAPI {
     public static FutureTask<PlayFabResult<EmptyResponse>> StartExperimentAsync(final StartExperimentRequest request) {
         return new FutureTask(new Callable<PlayFabResult<EmptyResponse>>() {
             public PlayFabResult<EmptyResponse> call() throws Exception {
-                return privateStartExperimentAsync(request);
+                return privateStartExperimentAsync(null, request);
             }
         });
     }
@@ -594,7 +592,7 @@ public class PlayFabExperimentationAPI {
     public static PlayFabResult<EmptyResponse> StartExperiment(final StartExperimentRequest request) {
         FutureTask<PlayFabResult<EmptyResponse>> task = new FutureTask(new Callable<PlayFabResult<EmptyResponse>>() {
             public PlayFabResult<EmptyResponse> call() throws Exception {
-                return privateStartExperimentAsync(request);
+                return privateStartExperimentAsync(null, request);
             }
         });
         try {
@@ -609,10 +607,12 @@ public class PlayFabExperimentationAPI {
 
     /** Starts an existing experiment for a title. */
     @SuppressWarnings("unchecked")
-    private static PlayFabResult<EmptyResponse> privateStartExperimentAsync(final StartExperimentRequest request) throws Exception {
-        if (PlayFabSettings.EntityToken == null) throw new Exception ("Must call GetEntityToken before you can use the Entity API");
+    static PlayFabResult<EmptyResponse> privateStartExperimentAsync(final PlayFabInstanceAPI instance, final StartExperimentRequest request) throws Exception {
+        final PlayFabApiContext context = PlayFabInstanceAPI.contextOf(instance);
+        final String entityToken = context.getEntityToken();
+        if (entityToken == null) throw new Exception ("Must call GetEntityToken before you can use the Entity API");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Experimentation/StartExperiment"), request, "X-EntityToken", PlayFabSettings.EntityToken);
+        FutureTask<Object> task = PlayFabHTTP.doPost(context.getURL("/Experimentation/StartExperiment"), request, "X-EntityToken", entityToken, EmptyResponse.class);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -623,9 +623,7 @@ public class PlayFabExperimentationAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
-
-        PlayFabJsonSuccess<EmptyResponse> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<EmptyResponse>>(){}.getType());
+        PlayFabJsonSuccess<EmptyResponse> resultData = (PlayFabJsonSuccess<EmptyResponse>) httpResult;
         EmptyResponse result = resultData.data;
 
         PlayFabResult<EmptyResponse> pfResult = new PlayFabResult<EmptyResponse>();
@@ -642,7 +640,7 @@ public class PlayFabExperimentationAPI {
     public static FutureTask<PlayFabResult<EmptyResponse>> StopExperimentAsync(final StopExperimentRequest request) {
         return new FutureTask(new Callable<PlayFabResult<EmptyResponse>>() {
             public PlayFabResult<EmptyResponse> call() throws Exception {
-                return privateStopExperimentAsync(request);
+                return privateStopExperimentAsync(null, request);
             }
         });
     }
@@ -656,7 +654,7 @@ public class PlayFabExperimentationAPI {
     public static PlayFabResult<EmptyResponse> StopExperiment(final StopExperimentRequest request) {
         FutureTask<PlayFabResult<EmptyResponse>> task = new FutureTask(new Callable<PlayFabResult<EmptyResponse>>() {
             public PlayFabResult<EmptyResponse> call() throws Exception {
-                return privateStopExperimentAsync(request);
+                return privateStopExperimentAsync(null, request);
             }
         });
         try {
@@ -671,10 +669,12 @@ public class PlayFabExperimentationAPI {
 
     /** Stops an existing experiment for a title. */
     @SuppressWarnings("unchecked")
-    private static PlayFabResult<EmptyResponse> privateStopExperimentAsync(final StopExperimentRequest request) throws Exception {
-        if (PlayFabSettings.EntityToken == null) throw new Exception ("Must call GetEntityToken before you can use the Entity API");
+    static PlayFabResult<EmptyResponse> privateStopExperimentAsync(final PlayFabInstanceAPI instance, final StopExperimentRequest request) throws Exception {
+        final PlayFabApiContext context = PlayFabInstanceAPI.contextOf(instance);
+        final String entityToken = context.getEntityToken();
+        if (entityToken == null) throw new Exception ("Must call GetEntityToken before you can use the Entity API");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Experimentation/StopExperiment"), request, "X-EntityToken", PlayFabSettings.EntityToken);
+        FutureTask<Object> task = PlayFabHTTP.doPost(context.getURL("/Experimentation/StopExperiment"), request, "X-EntityToken", entityToken, EmptyResponse.class);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -685,9 +685,7 @@ public class PlayFabExperimentationAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
-
-        PlayFabJsonSuccess<EmptyResponse> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<EmptyResponse>>(){}.getType());
+        PlayFabJsonSuccess<EmptyResponse> resultData = (PlayFabJsonSuccess<EmptyResponse>) httpResult;
         EmptyResponse result = resultData.data;
 
         PlayFabResult<EmptyResponse> pfResult = new PlayFabResult<EmptyResponse>();
@@ -704,7 +702,7 @@ public class PlayFabExperimentationAPI {
     public static FutureTask<PlayFabResult<EmptyResponse>> UpdateExclusionGroupAsync(final UpdateExclusionGroupRequest request) {
         return new FutureTask(new Callable<PlayFabResult<EmptyResponse>>() {
             public PlayFabResult<EmptyResponse> call() throws Exception {
-                return privateUpdateExclusionGroupAsync(request);
+                return privateUpdateExclusionGroupAsync(null, request);
             }
         });
     }
@@ -718,7 +716,7 @@ public class PlayFabExperimentationAPI {
     public static PlayFabResult<EmptyResponse> UpdateExclusionGroup(final UpdateExclusionGroupRequest request) {
         FutureTask<PlayFabResult<EmptyResponse>> task = new FutureTask(new Callable<PlayFabResult<EmptyResponse>>() {
             public PlayFabResult<EmptyResponse> call() throws Exception {
-                return privateUpdateExclusionGroupAsync(request);
+                return privateUpdateExclusionGroupAsync(null, request);
             }
         });
         try {
@@ -733,10 +731,12 @@ public class PlayFabExperimentationAPI {
 
     /** Updates an existing exclusion group for a title. */
     @SuppressWarnings("unchecked")
-    private static PlayFabResult<EmptyResponse> privateUpdateExclusionGroupAsync(final UpdateExclusionGroupRequest request) throws Exception {
-        if (PlayFabSettings.EntityToken == null) throw new Exception ("Must call GetEntityToken before you can use the Entity API");
+    static PlayFabResult<EmptyResponse> privateUpdateExclusionGroupAsync(final PlayFabInstanceAPI instance, final UpdateExclusionGroupRequest request) throws Exception {
+        final PlayFabApiContext context = PlayFabInstanceAPI.contextOf(instance);
+        final String entityToken = context.getEntityToken();
+        if (entityToken == null) throw new Exception ("Must call GetEntityToken before you can use the Entity API");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Experimentation/UpdateExclusionGroup"), request, "X-EntityToken", PlayFabSettings.EntityToken);
+        FutureTask<Object> task = PlayFabHTTP.doPost(context.getURL("/Experimentation/UpdateExclusionGroup"), request, "X-EntityToken", entityToken, EmptyResponse.class);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -747,9 +747,7 @@ public class PlayFabExperimentationAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
-
-        PlayFabJsonSuccess<EmptyResponse> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<EmptyResponse>>(){}.getType());
+        PlayFabJsonSuccess<EmptyResponse> resultData = (PlayFabJsonSuccess<EmptyResponse>) httpResult;
         EmptyResponse result = resultData.data;
 
         PlayFabResult<EmptyResponse> pfResult = new PlayFabResult<EmptyResponse>();
@@ -766,7 +764,7 @@ public class PlayFabExperimentationAPI {
     public static FutureTask<PlayFabResult<EmptyResponse>> UpdateExperimentAsync(final UpdateExperimentRequest request) {
         return new FutureTask(new Callable<PlayFabResult<EmptyResponse>>() {
             public PlayFabResult<EmptyResponse> call() throws Exception {
-                return privateUpdateExperimentAsync(request);
+                return privateUpdateExperimentAsync(null, request);
             }
         });
     }
@@ -780,7 +778,7 @@ public class PlayFabExperimentationAPI {
     public static PlayFabResult<EmptyResponse> UpdateExperiment(final UpdateExperimentRequest request) {
         FutureTask<PlayFabResult<EmptyResponse>> task = new FutureTask(new Callable<PlayFabResult<EmptyResponse>>() {
             public PlayFabResult<EmptyResponse> call() throws Exception {
-                return privateUpdateExperimentAsync(request);
+                return privateUpdateExperimentAsync(null, request);
             }
         });
         try {
@@ -795,10 +793,12 @@ public class PlayFabExperimentationAPI {
 
     /** Updates an existing experiment for a title. */
     @SuppressWarnings("unchecked")
-    private static PlayFabResult<EmptyResponse> privateUpdateExperimentAsync(final UpdateExperimentRequest request) throws Exception {
-        if (PlayFabSettings.EntityToken == null) throw new Exception ("Must call GetEntityToken before you can use the Entity API");
+    static PlayFabResult<EmptyResponse> privateUpdateExperimentAsync(final PlayFabInstanceAPI instance, final UpdateExperimentRequest request) throws Exception {
+        final PlayFabApiContext context = PlayFabInstanceAPI.contextOf(instance);
+        final String entityToken = context.getEntityToken();
+        if (entityToken == null) throw new Exception ("Must call GetEntityToken before you can use the Entity API");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Experimentation/UpdateExperiment"), request, "X-EntityToken", PlayFabSettings.EntityToken);
+        FutureTask<Object> task = PlayFabHTTP.doPost(context.getURL("/Experimentation/UpdateExperiment"), request, "X-EntityToken", entityToken, EmptyResponse.class);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -809,9 +809,7 @@ public class PlayFabExperimentationAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
-
-        PlayFabJsonSuccess<EmptyResponse> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<EmptyResponse>>(){}.getType());
+        PlayFabJsonSuccess<EmptyResponse> resultData = (PlayFabJsonSuccess<EmptyResponse>) httpResult;
         EmptyResponse result = resultData.data;
 
         PlayFabResult<EmptyResponse> pfResult = new PlayFabResult<EmptyResponse>();
@@ -819,4 +817,187 @@ public class PlayFabExperimentationAPI {
         return pfResult;
     }
 
+    /**
+     * @return Non-blocking versions of every PlayFabExperimentationAPI call, started on PlayFabSettings.AsyncExecutor
+     */
+    public static Async async() {
+        return async;
+    }
+
+    /**
+     * Non-blocking versions of the PlayFabExperimentationAPI calls. Each call is already running when its PlayFabFuture is returned.
+     */
+    public static class Async {
+        private Async() {
+        }
+
+        /**
+         * Creates a new experiment exclusion group for a title.
+         * @param request CreateExclusionGroupRequest
+         * @return Running future that will complete with CreateExclusionGroupResult
+         */
+        public PlayFabFuture<PlayFabResult<CreateExclusionGroupResult>> CreateExclusionGroup(final CreateExclusionGroupRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<CreateExclusionGroupResult>>() {
+                public PlayFabResult<CreateExclusionGroupResult> call() throws Exception {
+                    return privateCreateExclusionGroupAsync(null, request);
+                }
+            });
+        }
+
+        /**
+         * Creates a new experiment for a title.
+         * @param request CreateExperimentRequest
+         * @return Running future that will complete with CreateExperimentResult
+         */
+        public PlayFabFuture<PlayFabResult<CreateExperimentResult>> CreateExperiment(final CreateExperimentRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<CreateExperimentResult>>() {
+                public PlayFabResult<CreateExperimentResult> call() throws Exception {
+                    return privateCreateExperimentAsync(null, request);
+                }
+            });
+        }
+
+        /**
+         * Deletes an existing exclusion group for a title.
+         * @param request DeleteExclusionGroupRequest
+         * @return Running future that will complete with EmptyResponse
+         */
+        public PlayFabFuture<PlayFabResult<EmptyResponse>> DeleteExclusionGroup(final DeleteExclusionGroupRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<EmptyResponse>>() {
+                public PlayFabResult<EmptyResponse> call() throws Exception {
+                    return privateDeleteExclusionGroupAsync(null, request);
+                }
+            });
+        }
+
+        /**
+         * Deletes an existing experiment for a title.
+         * @param request DeleteExperimentRequest
+         * @return Running future that will complete with EmptyResponse
+         */
+        public PlayFabFuture<PlayFabResult<EmptyResponse>> DeleteExperiment(final DeleteExperimentRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<EmptyResponse>>() {
+                public PlayFabResult<EmptyResponse> call() throws Exception {
+                    return privateDeleteExperimentAsync(null, request);
+                }
+            });
+        }
+
+        /**
+         * Gets the details of all exclusion groups for a title.
+         * @param request GetExclusionGroupsRequest
+         * @return Running future that will complete with GetExclusionGroupsResult
+         */
+        public PlayFabFuture<PlayFabResult<GetExclusionGroupsResult>> GetExclusionGroups(final GetExclusionGroupsRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<GetExclusionGroupsResult>>() {
+                public PlayFabResult<GetExclusionGroupsResult> call() throws Exception {
+                    return privateGetExclusionGroupsAsync(null, request);
+                }
+            });
+        }
+
+        /**
+         * Gets the details of all exclusion groups for a title.
+         * @param request GetExclusionGroupTrafficRequest
+         * @return Running future that will complete with GetExclusionGroupTrafficResult
+         */
+        public PlayFabFuture<PlayFabResult<GetExclusionGroupTrafficResult>> GetExclusionGroupTraffic(final GetExclusionGroupTrafficRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<GetExclusionGroupTrafficResult>>() {
+                public PlayFabResult<GetExclusionGroupTrafficResult> call() throws Exception {
+                    return privateGetExclusionGroupTrafficAsync(null, request);
+                }
+            });
+        }
+
+        /**
+         * Gets the details of all experiments for a title.
+         * @param request GetExperimentsRequest
+         * @return Running future that will complete with GetExperimentsResult
+         */
+        public PlayFabFuture<PlayFabResult<GetExperimentsResult>> GetExperiments(final GetExperimentsRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<GetExperimentsResult>>() {
+                public PlayFabResult<GetExperimentsResult> call() throws Exception {
+                    return privateGetExperimentsAsync(null, request);
+                }
+            });
+        }
+
+        /**
+         * Gets the latest scorecard of the experiment for the title.
+         * @param request GetLatestScorecardRequest
+         * @return Running future that will complete with GetLatestScorecardResult
+         */
+        public PlayFabFuture<PlayFabResult<GetLatestScorecardResult>> GetLatestScorecard(final GetLatestScorecardRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<GetLatestScorecardResult>>() {
+                public PlayFabResult<GetLatestScorecardResult> call() throws Exception {
+                    return privateGetLatestScorecardAsync(null, request);
+                }
+            });
+        }
+
+        /**
+         * Gets the treatment assignments for a player for every running experiment in the title.
+         * @param request GetTreatmentAssignmentRequest
+         * @return Running future that will complete with GetTreatmentAssignmentResult
+         */
+        public PlayFabFuture<PlayFabResult<GetTreatmentAssignmentResult>> GetTreatmentAssignment(final GetTreatmentAssignmentRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<GetTreatmentAssignmentResult>>() {
+                public PlayFabResult<GetTreatmentAssignmentResult> call() throws Exception {
+                    return privateGetTreatmentAssignmentAsync(null, request);
+                }
+            });
+        }
+
+        /**
+         * Starts an existing experiment for a title.
+         * @param request StartExperimentRequest
+         * @return Running future that will complete with EmptyResponse
+         */
+        public PlayFabFuture<PlayFabResult<EmptyResponse>> StartExperiment(final StartExperimentRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<EmptyResponse>>() {
+                public PlayFabResult<EmptyResponse> call() throws Exception {
+                    return privateStartExperimentAsync(null, request);
+                }
+            });
+        }
+
+        /**
+         * Stops an existing experiment for a title.
+         * @param request StopExperimentRequest
+         * @return Running future that will complete with EmptyResponse
+         */
+        public PlayFabFuture<PlayFabResult<EmptyResponse>> StopExperiment(final StopExperimentRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<EmptyResponse>>() {
+                public PlayFabResult<EmptyResponse> call() throws Exception {
+                    return privateStopExperimentAsync(null, request);
+                }
+            });
+        }
+
+        /**
+         * Updates an existing exclusion group for a title.
+         * @param request UpdateExclusionGroupRequest
+         * @return Running future that will complete with EmptyResponse
+         */
+        public PlayFabFuture<PlayFabResult<EmptyResponse>> UpdateExclusionGroup(final UpdateExclusionGroupRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<EmptyResponse>>() {
+                public PlayFabResult<EmptyResponse> call() throws Exception {
+                    return privateUpdateExclusionGroupAsync(null, request);
+                }
+            });
+        }
+
+        /**
+         * Updates an existing experiment for a title.
+         * @param request UpdateExperimentRequest
+         * @return Running future that will complete with EmptyResponse
+         */
+        public PlayFabFuture<PlayFabResult<EmptyResponse>> UpdateExperiment(final UpdateExperimentRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<EmptyResponse>>() {
+                public PlayFabResult<EmptyResponse> call() throws Exception {
+                    return privateUpdateExperimentAsync(null, request);
+                }
+            });
+        }
+    }
 }
@@ -0,0 +1,399 @@
+package com.playfab;
+
+import com.playfab.internal.*;
+import com.playfab.PlayFabExperimentationModels.*;
+import com.playfab.PlayFabErrors.*;
+import com.playfab.PlayFabSettings;
+import java.util.concurrent.*;
+import java.util.*;
+
+    /**
+     * The calls of PlayFabExperimentationAPI, made with a PlayFabApiContext of this object's own instead of PlayFabSettings. Login
+     * and GetEntityToken calls keep the credentials they return in that context
+     */
+public class PlayFabExperimentationInstanceAPI extends PlayFabInstanceAPI {
+    private final Async async = new Async();
+
+    public PlayFabExperimentationInstanceAPI(PlayFabApiContext context) {
+        super(context);
+    }
+
+    /**
+     * Creates a new experiment exclusion group for a title.
+     * @param request CreateExclusionGroupRequest
+     * @return CreateExclusionGroupResult
+     */
+    public PlayFabResult<CreateExclusionGroupResult> CreateExclusionGroup(final CreateExclusionGroupRequest request) {
+        try {
+            return PlayFabExperimentationAPI.privateCreateExclusionGroupAsync(this, request);
+        } catch(Exception e) {
+            PlayFabResult<CreateExclusionGroupResult> exceptionResult = new PlayFabResult<CreateExclusionGroupResult>();
+            exceptionResult.Error = PlayFabHTTP.GeneratePfError(-1, PlayFabErrorCode.Unknown, e.getMessage(), null, null);
+            return exceptionResult;
+        }
+    }
+
+    /**
+     * Creates a new experiment for a title.
+     * @param request CreateExperimentRequest
+     * @return CreateExperimentResult
+     */
+    public PlayFabResult<CreateExperimentResult> CreateExperiment(final CreateExperimentRequest request) {
+        try {
+            return PlayFabExperimentationAPI.privateCreateExperimentAsync(this, request);
+        } catch(Exception e) {
+            PlayFabResult<CreateExperimentResult> exceptionResult = new PlayFabResult<CreateExperimentResult>();
+            exceptionResult.Error = PlayFabHTTP.GeneratePfError(-1, PlayFabErrorCode.Unknown, e.getMessage(), null, null);
+            return exceptionResult;
+        }
+    }
+
+    /**
+     * Deletes an existing exclusion group for a title.
+     * @param request DeleteExclusionGroupRequest
+     * @return EmptyResponse
+     */
+    public PlayFabResult<EmptyResponse> DeleteExclusionGroup(final DeleteExclusionGroupRequest request) {
+        try {
+            return PlayFabExperimentationAPI.privateDeleteExclusionGroupAsync(this, request);
+        } catch(Exception e) {
+            PlayFabResult<EmptyResponse> exceptionResult = new PlayFabResult<EmptyResponse>();
+            exceptionResult.Error = PlayFabHTTP.GeneratePfError(-1, PlayFabErrorCode.Unknown, e.getMessage(), null, null);
+            return exceptionResult;
+        }
+    }
+
+    /**
+     * Deletes an existing experiment for a title.
+     * @param request DeleteExperimentRequest
+     * @return EmptyResponse
+     */
+    public PlayFabResult<EmptyResponse> DeleteExperiment(final DeleteExperimentRequest request) {
+        try {
+            return PlayFabExperimentationAPI.privateDeleteExperimentAsync(this, request);
+        } catch(Exception e) {
+            PlayFabResult<EmptyResponse> exceptionResult = new PlayFabResult<EmptyResponse>();
+            exceptionResult.Error = PlayFabHTTP.GeneratePfError(-1, PlayFabErrorCode.Unknown, e.getMessage(), null, null);
+            return exceptionResult;
+        }
+    }
+
+    /**
+     * Gets the details of all exclusion groups for a title.
+     * @param request GetExclusionGroupsRequest
+     * @return GetExclusionGroupsResult
+     */
+    public PlayFabResult<GetExclusionGroupsResult> GetExclusionGroups(final GetExclusionGroupsRequest request) {
+        try {
+            return PlayFabExperimentationAPI.privateGetExclusionGroupsAsync(this, request);
+        } catch(Exception e) {
+            PlayFabResult<GetExclusionGroupsResult> exceptionResult = new PlayFabResult<GetExclusionGroupsResult>();
+            exceptionResult.Error = PlayFabHTTP.GeneratePfError(-1, PlayFabErrorCode.Unknown, e.getMessage(), null, null);
+            return exceptionResult;
+        }
+    }
+
+    /**
+     * Gets the details of all exclusion groups for a title.
+     * @param request GetExclusionGroupTrafficRequest
+     * @return GetExclusionGroupTrafficResult
+     */
+    public PlayFabResult<GetExclusionGroupTrafficResult> GetExclusionGroupTraffic(final GetExclusionGroupTrafficRequest request) {
+        try {
+            return PlayFabExperimentationAPI.privateGetExclusionGroupTrafficAsync(this, request);
+        } catch(Exception e) {
+            PlayFabResult<GetExclusionGroupTrafficResult> exceptionResult = new PlayFabResult<GetExclusionGroupTrafficResult>();
+            exceptionResult.Error = PlayFabHTTP.GeneratePfError(-1, PlayFabErrorCode.Unknown, e.getMessage(), null, null);
+            return exceptionResult;
+        }
+    }
+
+    /**
+     * Gets the details of all experiments for a title.
+     * @param request GetExperimentsRequest
+     * @return GetExperimentsResult
+     */
+    public PlayFabResult<GetExperimentsResult> GetExperiments(final GetExperimentsRequest request) {
+        try {
+            return PlayFabExperimentationAPI.privateGetExperimentsAsync(this, request);
+        } catch(Exception e) {
+            PlayFabResult<GetExperimentsResult> exceptionResult = new PlayFabResult<GetExperimentsResult>();
+            exceptionResult.Error = PlayFabHTTP.GeneratePfError(-1, PlayFabErrorCode.Unknown, e.getMessage(), null, null);
+            return exceptionResult;
+        }
+    }
+
+    /**
+     * Gets the latest scorecard of the experiment for the title.
+     * @param request GetLatestScorecardRequest
+     * @return GetLatestScorecardResult
+     */
+    public PlayFabResult<GetLatestScorecardResult> GetLatestScorecard(final GetLatestScorecardRequest request) {
+        try {
+            return PlayFabExperimentationAPI.privateGetLatestScorecardAsync(this, request);
+        } catch(Exception e) {
+            PlayFabResult<GetLatestScorecardResult> exceptionResult = new PlayFabResult<GetLatestScorecardResult>();
+            exceptionResult.Error = PlayFabHTTP.GeneratePfError(-1, PlayFabErrorCode.Unknown, e.getMessage(), null, null);
+            return exceptionResult;
+        }
+    }
+
+    /**
+     * Gets the treatment assignments for a player for every running experiment in the title.
+     * @param request GetTreatmentAssignmentRequest
+     * @return GetTreatmentAssignmentResult
+     */
+    public PlayFabResult<GetTreatmentAssignmentResult> GetTreatmentAssignment(final GetTreatmentAssignmentRequest request) {
+        try {
+            return PlayFabExperimentationAPI.privateGetTreatmentAssignmentAsync(this, request);
+        } catch(Exception e) {
+            PlayFabResult<GetTreatmentAssignmentResult> exceptionResult = new PlayFabResult<GetTreatmentAssignmentResult>();
+            exceptionResult.Error = PlayFabHTTP.GeneratePfError(-1, PlayFabErrorCode.Unknown, e.getMessage(), null, null);
+            return exceptionResult;
+        }
+    }
+
+    /**
+     * Starts an existing experiment for a title.
+     * @param request StartExperimentRequest
+     * @return EmptyResponse
+     */
+    public PlayFabResult<EmptyResponse> StartExperiment(final StartExperimentRequest request) {
+        try {
+            return PlayFabExperimentationAPI.privateStartExperimentAsync(this, request);
+        } catch(Exception e) {
+            PlayFabResult<EmptyResponse> exceptionResult = new PlayFabResult<EmptyResponse>();
+            exceptionResult.Error = PlayFabHTTP.GeneratePfError(-1, PlayFabErrorCode.Unknown, e.getMessage(), null, null);
+            return exceptionResult;
+        }
+    }
+
+    /**
+     * Stops an existing experiment for a title.
+     * @param request StopExperimentRequest
+     * @return EmptyResponse
+     */
+    public PlayFabResult<EmptyResponse> StopExperiment(final StopExperimentRequest request) {
+        try {
+            return PlayFabExperimentationAPI.privateStopExperimentAsync(this, request);
+        } catch(Exception e) {
+            PlayFabResult<EmptyResponse> exceptionResult = new PlayFabResult<EmptyResponse>();
+            exceptionResult.Error = PlayFabHTTP.GeneratePfError(-1, PlayFabErrorCode.Unknown, e.getMessage(), null, null);
+            return exceptionResult;
+        }
+    }
+
+    /**
+     * Updates an existing exclusion group for a title.
+     * @param request UpdateExclusionGroupRequest
+     * @return EmptyResponse
+     */
+    public PlayFabResult<EmptyResponse> UpdateExclusionGroup(final UpdateExclusionGroupRequest request) {
+        try {
+            return PlayFabExperimentationAPI.privateUpdateExclusionGroupAsync(this, request);
+        } catch(Exception e) {
+            PlayFabResult<EmptyResponse> exceptionResult = new PlayFabResult<EmptyResponse>();
+            exceptionResult.Error = PlayFabHTTP.GeneratePfError(-1, PlayFabErrorCode.Unknown, e.getMessage(), null, null);
+            return exceptionResult;
+        }
+    }
+
+    /**
+     * Updates an existing experiment for a title.
+     * @param request UpdateExperimentRequest
+     * @return EmptyResponse
+     */
+    public PlayFabResult<EmptyResponse> UpdateExperiment(final UpdateExperimentRequest request) {
+        try {
+            return PlayFabExperimentationAPI.privateUpdateExperimentAsync(this, request);
+        } catch(Exception e) {
+            PlayFabResult<EmptyResponse> exceptionResult = new PlayFabResult<EmptyResponse>();
+            exceptionResult.Error = PlayFabHTTP.GeneratePfError(-1, PlayFabErrorCode.Unknown, e.getMessage(), null, null);
+            return exceptionResult;
+        }
+    }
+
+    /**
+     * @return Non-blocking versions of every call, made with this object's context and started on PlayFabSettings.AsyncExecutor
+     */
+    public Async async() {
+        return async;
+    }
+
+    /**
+     * Non-blocking versions of the PlayFabExperimentationInstanceAPI calls. Each call is already running when its PlayFabFuture is returned.
+     */
+    public class Async {
+        private Async() {
+        }
+
+        /**
+         * Creates a new experiment exclusion group for a title.
+         * @param request CreateExclusionGroupRequest
+         * @return Running future that will complete with CreateExclusionGroupResult
+         */
+        public PlayFabFuture<PlayFabResult<CreateExclusionGroupResult>> CreateExclusionGroup(final CreateExclusionGroupRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<CreateExclusionGroupResult>>() {
+                public PlayFabResult<CreateExclusionGroupResult> call() throws Exception {
+                    return PlayFabExperimentationAPI.privateCreateExclusionGroupAsync(PlayFabExperimentationInstanceAPI.this, request);
+                }
+            });
+        }
+
+        /**
+         * Creates a new experiment for a title.
+         * @param request CreateExperimentRequest
+         * @return Running future that will complete with CreateExperimentResult
+         */
+        public PlayFabFuture<PlayFabResult<CreateExperimentResult>> CreateExperiment(final CreateExperimentRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<CreateExperimentResult>>() {
+                public PlayFabResult<CreateExperimentResult> call() throws Exception {
+                    return PlayFabExperimentationAPI.privateCreateExperimentAsync(PlayFabExperimentationInstanceAPI.this, request);
+                }
+            });
+        }
+
+        /**
+         * Deletes an existing exclusion group for a title.
+         * @param request DeleteExclusionGroupRequest
+         * @return Running future that will complete with EmptyResponse
+         */
+        public PlayFabFuture<PlayFabResult<EmptyResponse>> DeleteExclusionGroup(final DeleteExclusionGroupRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<EmptyResponse>>() {
+                public PlayFabResult<EmptyResponse> call() throws Exception {
+                    return PlayFabExperimentationAPI.privateDeleteExclusionGroupAsync(PlayFabExperimentationInstanceAPI.this, request);
+                }
+            });
+        }
+
+        /**
+         * Deletes an existing experiment for a title.
+         * @param request DeleteExperimentRequest
+         * @return Running future that will complete with EmptyResponse
+         */
+        public PlayFabFuture<PlayFabResult<EmptyResponse>> DeleteExperiment(final DeleteExperimentRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<EmptyResponse>>() {
+                public PlayFabResult<EmptyResponse> call() throws Exception {
+                    return PlayFabExperimentationAPI.privateDeleteExperimentAsync(PlayFabExperimentationInstanceAPI.this, request);
+                }
+            });
+        }
+
+        /**
+         * Gets the details of all exclusion groups for a title.
+         * @param request GetExclusionGroupsRequest
+         * @return Running future that will complete with GetExclusionGroupsResult
+         */
+        public PlayFabFuture<PlayFabResult<GetExclusionGroupsResult>> GetExclusionGroups(final GetExclusionGroupsRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<GetExclusionGroupsResult>>() {
+                public PlayFabResult<GetExclusionGroupsResult> call() throws Exception {
+                    return PlayFabExperimentationAPI.privateGetExclusionGroupsAsync(PlayFabExperimentationInstanceAPI.this, request);
+                }
+            });
+        }
+
+        /**
+         * Gets the details of all exclusion groups for a title.
+         * @param request GetExclusionGroupTrafficRequest
+         * @return Running future that will complete with GetExclusionGroupTrafficResult
+         */
+        public PlayFabFuture<PlayFabResult<GetExclusionGroupTrafficResult>> GetExclusionGroupTraffic(final GetExclusionGroupTrafficRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<GetExclusionGroupTrafficResult>>() {
+                public PlayFabResult<GetExclusionGroupTrafficResult> call() throws Exception {
+                    return PlayFabExperimentationAPI.privateGetExclusionGroupTrafficAsync(PlayFabExperimentationInstanceAPI.this, request);
+                }
+            });
+        }
+
+        /**
+         * Gets the details of all experiments for a title.
+         * @param request GetExperimentsRequest
+         * @return Running future that will complete with GetExperimentsResult
+         */
+        public PlayFabFuture<PlayFabResult<GetExperimentsResult>> GetExperiments(final GetExperimentsRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<GetExperimentsResult>>() {
+                public PlayFabResult<GetExperimentsResult> call() throws Exception {
+                    return PlayFabExperimentationAPI.privateGetExperimentsAsync(PlayFabExperimentationInstanceAPI.this, request);
+                }
+            });
+        }
+
+        /**
+         * Gets the latest scorecard of the experiment for the title.
+         * @param request GetLatestScorecardRequest
+         * @return Running future that will complete with GetLatestScorecardResult
+         */
+        public PlayFabFuture<PlayFabResult<GetLatestScorecardResult>> GetLatestScorecard(final GetLatestScorecardRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<GetLatestScorecardResult>>() {
+                public PlayFabResult<GetLatestScorecardResult> call() throws Exception {
+                    return PlayFabExperimentationAPI.privateGetLatestScorecardAsync(PlayFabExperimentationInstanceAPI.this, request);
+                }
+            });
+        }
+
+        /**
+         * Gets the treatment assignments for a player for every running experiment in the title.
+         * @param request GetTreatmentAssignmentRequest
+         * @return Running future that will complete with GetTreatmentAssignmentResult
+         */
+        public PlayFabFuture<PlayFabResult<GetTreatmentAssignmentResult>> GetTreatmentAssignment(final GetTreatmentAssignmentRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<GetTreatmentAssignmentResult>>() {
+                public PlayFabResult<GetTreatmentAssignmentResult> call() throws Exception {
+                    return PlayFabExperimentationAPI.privateGetTreatmentAssignmentAsync(PlayFabExperimentationInstanceAPI.this, request);
+                }
+            });
+        }
+
+        /**
+         * Starts an existing experiment for a title.
+         * @param request StartExperimentRequest
+         * @return Running future that will complete with EmptyResponse
+         */
+        public PlayFabFuture<PlayFabResult<EmptyResponse>> StartExperiment(final StartExperimentRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<EmptyResponse>>() {
+                public PlayFabResult<EmptyResponse> call() throws Exception {
+                    return PlayFabExperimentationAPI.privateStartExperimentAsync(PlayFabExperimentationInstanceAPI.this, request);
+                }
+            });
+        }
+
+        /**
+         * Stops an existing experiment for a title.
+         * @param request StopExperimentRequest
+         * @return Running future that will complete with EmptyResponse
+         */
+        public PlayFabFuture<PlayFabResult<EmptyResponse>> StopExperiment(final StopExperimentRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<EmptyResponse>>() {
+                public PlayFabResult<EmptyResponse> call() throws Exception {
+                    return PlayFabExperimentationAPI.privateStopExperimentAsync(PlayFabExperimentationInstanceAPI.this, request);
+                }
+            });
+        }
+
+        /**
+         * Updates an existing exclusion group for a title.
+         * @param request UpdateExclusionGroupRequest
+         * @return Running future that will complete with EmptyResponse
+         */
+        public PlayFabFuture<PlayFabResult<EmptyResponse>> UpdateExclusionGroup(final UpdateExclusionGroupRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<EmptyResponse>>() {
+                public PlayFabResult<EmptyResponse> call() throws Exception {
+                    return PlayFabExperimentationAPI.privateUpdateExclusionGroupAsync(PlayFabExperimentationInstanceAPI.this, request);
+                }
+            });
+        }
+
+        /**
+         * Updates an existing experiment for a title.
+         * @param request UpdateExperimentRequest
+         * @return Running future that will complete with EmptyResponse
+         */
+        public PlayFabFuture<PlayFabResult<EmptyResponse>> UpdateExperiment(final UpdateExperimentRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<EmptyResponse>>() {
+                public PlayFabResult<EmptyResponse> call() throws Exception {
+                    return PlayFabExperimentationAPI.privateUpdateExperimentAsync(PlayFabExperimentationInstanceAPI.this, request);
+                }
+            });
+        }
+    }
+}
@@ -0,0 +1,1495 @@
+package com.playfab;
+
+import java.io.IOException;
+import java.util.Date;
+import com.google.gson.*;
+import com.google.gson.reflect.TypeToken;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
+import com.playfab.PlayFabExperimentationModels.*;
+import com.playfab.internal.PlayFabJson;
+
+/**
+ * Streaming TypeAdapters for every class in PlayFabExperimentationModels, so models are read and written without field reflection.
+ * PlayFabJson finds FACTORY through this class name. Enums keep Gson's own adapters, which do no per-call reflection.
+ * Generated from PlayFabExperimentationModels by PlayFabModelAdaptersGenerator, in the PlayFabSDK tests: regenerate rather than edit.
+ */
+public class PlayFabExperimentationModelsAdapters {
+    public static final TypeAdapterFactory FACTORY = new TypeAdapterFactory() {
+        @SuppressWarnings("unchecked")
+        public <T> TypeAdapter<T> create(Gson gson, TypeToken<T> type) {
+            Class<?> raw = type.getRawType();
+            if (raw.getDeclaringClass() != PlayFabExperimentationModels.class)
+                return null;
+            switch (raw.getSimpleName()) {
+                case "CreateExclusionGroupRequest": return (TypeAdapter<T>) new CreateExclusionGroupRequestAdapter(gson);
+                case "CreateExclusionGroupResult": return (TypeAdapter<T>) new CreateExclusionGroupResultAdapter(gson);
+                case "CreateExperimentRequest": return (TypeAdapter<T>) new CreateExperimentRequestAdapter(gson);
+                case "CreateExperimentResult": return (TypeAdapter<T>) new CreateExperimentResultAdapter(gson);
+                case "DeleteExclusionGroupRequest": return (TypeAdapter<T>) new DeleteExclusionGroupRequestAdapter(gson);
+                case "DeleteExperimentRequest": return (TypeAdapter<T>) new DeleteExperimentRequestAdapter(gson);
+                case "EmptyResponse": return (TypeAdapter<T>) new EmptyResponseAdapter(gson);
+                case "EntityKey": return (TypeAdapter<T>) new EntityKeyAdapter(gson);
+                case "ExclusionGroupTrafficAllocation": return (TypeAdapter<T>) new ExclusionGroupTrafficAllocationAdapter(gson);
+                case "Experiment": return (TypeAdapter<T>) new ExperimentAdapter(gson);
+                case "ExperimentExclusionGroup": return (TypeAdapter<T>) new ExperimentExclusionGroupAdapter(gson);
+                case "GetExclusionGroupsRequest": return (TypeAdapter<T>) new GetExclusionGroupsRequestAdapter(gson);
+                case "GetExclusionGroupsResult": return (TypeAdapter<T>) new GetExclusionGroupsResultAdapter(gson);
+                case "GetExclusionGroupTrafficRequest": return (TypeAdapter<T>) new GetExclusionGroupTrafficRequestAdapter(gson);
+                case "GetExclusionGroupTrafficResult": return (TypeAdapter<T>) new GetExclusionGroupTrafficResultAdapter(gson);
+                case "GetExperimentsRequest": return (TypeAdapter<T>) new GetExperimentsRequestAdapter(gson);
+                case "GetExperimentsResult": return (TypeAdapter<T>) new GetExperimentsResultAdapter(gson);
+                case "GetLatestScorecardRequest": return (TypeAdapter<T>) new GetLatestScorecardRequestAdapter(gson);
+                case "GetLatestScorecardResult": return (TypeAdapter<T>) new GetLatestScorecardResultAdapter(gson);
+                case "GetTreatmentAssignmentRequest": return (TypeAdapter<T>) new GetTreatmentAssignmentRequestAdapter(gson);
+                case "GetTreatmentAssignmentResult": return (TypeAdapter<T>) new GetTreatmentAssignmentResultAdapter(gson);
+                case "MetricData": return (TypeAdapter<T>) new MetricDataAdapter(gson);
+                case "Scorecard": return (TypeAdapter<T>) new ScorecardAdapter(gson);
+                case "ScorecardDataRow": return (TypeAdapter<T>) new ScorecardDataRowAdapter(gson);
+                case "StartExperimentRequest": return (TypeAdapter<T>) new StartExperimentRequestAdapter(gson);
+                case "StopExperimentRequest": return (TypeAdapter<T>) new StopExperimentRequestAdapter(gson);
+                case "TreatmentAssignment": return (TypeAdapter<T>) new TreatmentAssignmentAdapter(gson);
+                case "UpdateExclusionGroupRequest": return (TypeAdapter<T>) new UpdateExclusionGroupRequestAdapter(gson);
+                case "UpdateExperimentRequest": return (TypeAdapter<T>) new UpdateExperimentRequestAdapter(gson);
+                case "Variable": return (TypeAdapter<T>) new VariableAdapter(gson);
+                case "Variant": return (TypeAdapter<T>) new VariantAdapter(gson);
+                default: return null;
+            }
+        }
+    };
+
+    private static class CreateExclusionGroupRequestAdapter extends TypeAdapter<CreateExclusionGroupRequest> {
+        private final TypeAdapter<String> stringAdapter;
+
+        private CreateExclusionGroupRequestAdapter(Gson gson) {
+            stringAdapter = gson.getAdapter(String.class);
+        }
+
+        @Override
+        public void write(JsonWriter out, CreateExclusionGroupRequest value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            PlayFabJson.writeMap(out.name("CustomTags"), value.CustomTags, stringAdapter);
+            out.name("Description").value(value.Description);
+            out.name("Name").value(value.Name);
+            out.endObject();
+        }
+
+        @Override
+        public CreateExclusionGroupRequest read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            CreateExclusionGroupRequest value = new CreateExclusionGroupRequest();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "CustomTags": value.CustomTags = PlayFabJson.readMap(in, stringAdapter); break;
+                        case "Description": value.Description = PlayFabJson.readString(in); break;
+                        case "Name": value.Name = PlayFabJson.readString(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class CreateExclusionGroupResultAdapter extends TypeAdapter<CreateExclusionGroupResult> {
+        private CreateExclusionGroupResultAdapter(Gson gson) {
+        }
+
+        @Override
+        public void write(JsonWriter out, CreateExclusionGroupResult value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.name("ExclusionGroupId").value(value.ExclusionGroupId);
+            out.endObject();
+        }
+
+        @Override
+        public CreateExclusionGroupResult read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            CreateExclusionGroupResult value = new CreateExclusionGroupResult();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "ExclusionGroupId": value.ExclusionGroupId = PlayFabJson.readString(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class CreateExperimentRequestAdapter extends TypeAdapter<CreateExperimentRequest> {
+        private final TypeAdapter<String> stringAdapter;
+        private final TypeAdapter<Date> dateAdapter;
+        private final TypeAdapter<ExperimentType> experimentTypeAdapter;
+        private final TypeAdapter<Variant> variantAdapter;
+
+        private CreateExperimentRequestAdapter(Gson gson) {
+            stringAdapter = gson.getAdapter(String.class);
+            dateAdapter = gson.getAdapter(Date.class);
+            experimentTypeAdapter = gson.getAdapter(ExperimentType.class);
+            variantAdapter = gson.getAdapter(Variant.class);
+        }
+
+        @Override
+        public void write(JsonWriter out, CreateExperimentRequest value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            PlayFabJson.writeMap(out.name("CustomTags"), value.CustomTags, stringAdapter);
+            out.name("Description").value(value.Description);
+            dateAdapter.write(out.name("EndDate"), value.EndDate);
+            out.name("ExclusionGroupId").value(value.ExclusionGroupId);
+            out.name("ExclusionGroupTrafficAllocation").value(value.ExclusionGroupTrafficAllocation);
+            experimentTypeAdapter.write(out.name("ExperimentType"), value.ExperimentType);
+            out.name("Name").value(value.Name);
+            out.name("SegmentId").value(value.SegmentId);
+            dateAdapter.write(out.name("StartDate"), value.StartDate);
+            PlayFabJson.writeList(out.name("TitlePlayerAccountTestIds"), value.TitlePlayerAccountTestIds, stringAdapter);
+            PlayFabJson.writeList(out.name("Variants"), value.Variants, variantAdapter);
+            out.endObject();
+        }
+
+        @Override
+        public CreateExperimentRequest read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            CreateExperimentRequest value = new CreateExperimentRequest();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "CustomTags": value.CustomTags = PlayFabJson.readMap(in, stringAdapter); break;
+                        case "Description": value.Description = PlayFabJson.readString(in); break;
+                        case "EndDate": value.EndDate = dateAdapter.read(in); break;
+                        case "ExclusionGroupId": value.ExclusionGroupId = PlayFabJson.readString(in); break;
+                        case "ExclusionGroupTrafficAllocation": value.ExclusionGroupTrafficAllocation = PlayFabJson.readLong(in); break;
+                        case "ExperimentType": value.ExperimentType = experimentTypeAdapter.read(in); break;
+                        case "Name": value.Name = PlayFabJson.readString(in); break;
+                        case "SegmentId": value.SegmentId = PlayFabJson.readString(in); break;
+                        case "StartDate": value.StartDate = dateAdapter.read(in); break;
+                        case "TitlePlayerAccountTestIds": value.TitlePlayerAccountTestIds = PlayFabJson.readList(in, stringAdapter); break;
+                        case "Variants": value.Variants = PlayFabJson.readList(in, variantAdapter); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class CreateExperimentResultAdapter extends TypeAdapter<CreateExperimentResult> {
+        private CreateExperimentResultAdapter(Gson gson) {
+        }
+
+        @Override
+        public void write(JsonWriter out, CreateExperimentResult value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.name("ExperimentId").value(value.ExperimentId);
+            out.endObject();
+        }
+
+        @Override
+        public CreateExperimentResult read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            CreateExperimentResult value = new CreateExperimentResult();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "ExperimentId": value.ExperimentId = PlayFabJson.readString(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class DeleteExclusionGroupRequestAdapter extends TypeAdapter<DeleteExclusionGroupRequest> {
+        private final TypeAdapter<String> stringAdapter;
+
+        private DeleteExclusionGroupRequestAdapter(Gson gson) {
+            stringAdapter = gson.getAdapter(String.class);
+        }
+
+        @Override
+        public void write(JsonWriter out, DeleteExclusionGroupRequest value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            PlayFabJson.writeMap(out.name("CustomTags"), value.CustomTags, stringAdapter);
+            out.name("ExclusionGroupId").value(value.ExclusionGroupId);
+            out.endObject();
+        }
+
+        @Override
+        public DeleteExclusionGroupRequest read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            DeleteExclusionGroupRequest value = new DeleteExclusionGroupRequest();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "CustomTags": value.CustomTags = PlayFabJson.readMap(in, stringAdapter); break;
+                        case "ExclusionGroupId": value.ExclusionGroupId = PlayFabJson.readString(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class DeleteExperimentRequestAdapter extends TypeAdapter<DeleteExperimentRequest> {
+        private final TypeAdapter<String> stringAdapter;
+
+        private DeleteExperimentRequestAdapter(Gson gson) {
+            stringAdapter = gson.getAdapter(String.class);
+        }
+
+        @Override
+        public void write(JsonWriter out, DeleteExperimentRequest value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            PlayFabJson.writeMap(out.name("CustomTags"), value.CustomTags, stringAdapter);
+            out.name("ExperimentId").value(value.ExperimentId);
+            out.endObject();
+        }
+
+        @Override
+        public DeleteExperimentRequest read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            DeleteExperimentRequest value = new DeleteExperimentRequest();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "CustomTags": value.CustomTags = PlayFabJson.readMap(in, stringAdapter); break;
+                        case "ExperimentId": value.ExperimentId = PlayFabJson.readString(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class EmptyResponseAdapter extends TypeAdapter<EmptyResponse> {
+        private EmptyResponseAdapter(Gson gson) {
+        }
+
+        @Override
+        public void write(JsonWriter out, EmptyResponse value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.endObject();
+        }
+
+        @Override
+        public EmptyResponse read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            EmptyResponse value = new EmptyResponse();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class EntityKeyAdapter extends TypeAdapter<EntityKey> {
+        private EntityKeyAdapter(Gson gson) {
+        }
+
+        @Override
+        public void write(JsonWriter out, EntityKey value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.name("Id").value(value.Id);
+            out.name("Type").value(value.Type);
+            out.endObject();
+        }
+
+        @Override
+        public EntityKey read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            EntityKey value = new EntityKey();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "Id": value.Id = PlayFabJson.readString(in); break;
+                        case "Type": value.Type = PlayFabJson.readString(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class ExclusionGroupTrafficAllocationAdapter extends TypeAdapter<ExclusionGroupTrafficAllocation> {
+        private ExclusionGroupTrafficAllocationAdapter(Gson gson) {
+        }
+
+        @Override
+        public void write(JsonWriter out, ExclusionGroupTrafficAllocation value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.name("ExperimentId").value(value.ExperimentId);
+            out.name("TrafficAllocation").value(value.TrafficAllocation);
+            out.endObject();
+        }
+
+        @Override
+        public ExclusionGroupTrafficAllocation read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            ExclusionGroupTrafficAllocation value = new ExclusionGroupTrafficAllocation();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "ExperimentId": value.ExperimentId = PlayFabJson.readString(in); break;
+                        case "TrafficAllocation": value.TrafficAllocation = PlayFabJson.readLong(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class ExperimentAdapter extends TypeAdapter<Experiment> {
+        private final TypeAdapter<Date> dateAdapter;
+        private final TypeAdapter<ExperimentType> experimentTypeAdapter;
+        private final TypeAdapter<ExperimentState> experimentStateAdapter;
+        private final TypeAdapter<String> stringAdapter;
+        private final TypeAdapter<Variant> variantAdapter;
+
+        private ExperimentAdapter(Gson gson) {
+            dateAdapter = gson.getAdapter(Date.class);
+            experimentTypeAdapter = gson.getAdapter(ExperimentType.class);
+            experimentStateAdapter = gson.getAdapter(ExperimentState.class);
+            stringAdapter = gson.getAdapter(String.class);
+            variantAdapter = gson.getAdapter(Variant.class);
+        }
+
+        @Override
+        public void write(JsonWriter out, Experiment value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.name("Description").value(value.Description);
+            dateAdapter.write(out.name("EndDate"), value.EndDate);
+            out.name("ExclusionGroupId").value(value.ExclusionGroupId);
+            out.name("ExclusionGroupTrafficAllocation").value(value.ExclusionGroupTrafficAllocation);
+            experimentTypeAdapter.write(out.name("ExperimentType"), value.ExperimentType);
+            out.name("Id").value(value.Id);
+            out.name("Name").value(value.Name);
+            out.name("SegmentId").value(value.SegmentId);
+            dateAdapter.write(out.name("StartDate"), value.StartDate);
+            experimentStateAdapter.write(out.name("State"), value.State);
+            PlayFabJson.writeList(out.name("TitlePlayerAccountTestIds"), value.TitlePlayerAccountTestIds, stringAdapter);
+            PlayFabJson.writeList(out.name("Variants"), value.Variants, variantAdapter);
+            out.endObject();
+        }
+
+        @Override
+        public Experiment read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            Experiment value = new Experiment();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "Description": value.Description = PlayFabJson.readString(in); break;
+                        case "EndDate": value.EndDate = dateAdapter.read(in); break;
+                        case "ExclusionGroupId": value.ExclusionGroupId = PlayFabJson.readString(in); break;
+                        case "ExclusionGroupTrafficAllocation": value.ExclusionGroupTrafficAllocation = PlayFabJson.readLong(in); break;
+                        case "ExperimentType": value.ExperimentType = experimentTypeAdapter.read(in); break;
+                        case "Id": value.Id = PlayFabJson.readString(in); break;
+                        case "Name": value.Name = PlayFabJson.readString(in); break;
+                        case "SegmentId": value.SegmentId = PlayFabJson.readString(in); break;
+                        case "StartDate": value.StartDate = dateAdapter.read(in); break;
+                        case "State": value.State = experimentStateAdapter.read(in); break;
+                        case "TitlePlayerAccountTestIds": value.TitlePlayerAccountTestIds = PlayFabJson.readList(in, stringAdapter); break;
+                        case "Variants": value.Variants = PlayFabJson.readList(in, variantAdapter); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class ExperimentExclusionGroupAdapter extends TypeAdapter<ExperimentExclusionGroup> {
+        private ExperimentExclusionGroupAdapter(Gson gson) {
+        }
+
+        @Override
+        public void write(JsonWriter out, ExperimentExclusionGroup value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.name("Description").value(value.Description);
+            out.name("ExclusionGroupId").value(value.ExclusionGroupId);
+            out.name("Name").value(value.Name);
+            out.endObject();
+        }
+
+        @Override
+        public ExperimentExclusionGroup read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            ExperimentExclusionGroup value = new ExperimentExclusionGroup();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "Description": value.Description = PlayFabJson.readString(in); break;
+                        case "ExclusionGroupId": value.ExclusionGroupId = PlayFabJson.readString(in); break;
+                        case "Name": value.Name = PlayFabJson.readString(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class GetExclusionGroupsRequestAdapter extends TypeAdapter<GetExclusionGroupsRequest> {
+        private final TypeAdapter<String> stringAdapter;
+
+        private GetExclusionGroupsRequestAdapter(Gson gson) {
+            stringAdapter = gson.getAdapter(String.class);
+        }
+
+        @Override
+        public void write(JsonWriter out, GetExclusionGroupsRequest value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            PlayFabJson.writeMap(out.name("CustomTags"), value.CustomTags, stringAdapter);
+            out.endObject();
+        }
+
+        @Override
+        public GetExclusionGroupsRequest read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            GetExclusionGroupsRequest value = new GetExclusionGroupsRequest();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "CustomTags": value.CustomTags = PlayFabJson.readMap(in, stringAdapter); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class GetExclusionGroupsResultAdapter extends TypeAdapter<GetExclusionGroupsResult> {
+        private final TypeAdapter<ExperimentExclusionGroup> experimentExclusionGroupAdapter;
+
+        private GetExclusionGroupsResultAdapter(Gson gson) {
+            experimentExclusionGroupAdapter = gson.getAdapter(ExperimentExclusionGroup.class);
+        }
+
+        @Override
+        public void write(JsonWriter out, GetExclusionGroupsResult value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            PlayFabJson.writeList(out.name("ExclusionGroups"), value.ExclusionGroups, experimentExclusionGroupAdapter);
+            out.endObject();
+        }
+
+        @Override
+        public GetExclusionGroupsResult read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            GetExclusionGroupsResult value = new GetExclusionGroupsResult();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "ExclusionGroups": value.ExclusionGroups = PlayFabJson.readList(in, experimentExclusionGroupAdapter); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class GetExclusionGroupTrafficRequestAdapter extends TypeAdapter<GetExclusionGroupTrafficRequest> {
+        private final TypeAdapter<String> stringAdapter;
+
+        private GetExclusionGroupTrafficRequestAdapter(Gson gson) {
+            stringAdapter = gson.getAdapter(String.class);
+        }
+
+        @Override
+        public void write(JsonWriter out, GetExclusionGroupTrafficRequest value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            PlayFabJson.writeMap(out.name("CustomTags"), value.CustomTags, stringAdapter);
+            out.name("ExclusionGroupId").value(value.ExclusionGroupId);
+            out.endObject();
+        }
+
+        @Override
+        public GetExclusionGroupTrafficRequest read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            GetExclusionGroupTrafficRequest value = new GetExclusionGroupTrafficRequest();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "CustomTags": value.CustomTags = PlayFabJson.readMap(in, stringAdapter); break;
+                        case "ExclusionGroupId": value.ExclusionGroupId = PlayFabJson.readString(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class GetExclusionGroupTrafficResultAdapter extends TypeAdapter<GetExclusionGroupTrafficResult> {
+        private final TypeAdapter<ExclusionGroupTrafficAllocation> exclusionGroupTrafficAllocationAdapter;
+
+        private GetExclusionGroupTrafficResultAdapter(Gson gson) {
+            exclusionGroupTrafficAllocationAdapter = gson.getAdapter(ExclusionGroupTrafficAllocation.class);
+        }
+
+        @Override
+        public void write(JsonWriter out, GetExclusionGroupTrafficResult value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            PlayFabJson.writeList(out.name("TrafficAllocations"), value.TrafficAllocations, exclusionGroupTrafficAllocationAdapter);
+            out.endObject();
+        }
+
+        @Override
+        public GetExclusionGroupTrafficResult read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            GetExclusionGroupTrafficResult value = new GetExclusionGroupTrafficResult();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "TrafficAllocations": value.TrafficAllocations = PlayFabJson.readList(in, exclusionGroupTrafficAllocationAdapter); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class GetExperimentsRequestAdapter extends TypeAdapter<GetExperimentsRequest> {
+        private final TypeAdapter<String> stringAdapter;
+
+        private GetExperimentsRequestAdapter(Gson gson) {
+            stringAdapter = gson.getAdapter(String.class);
+        }
+
+        @Override
+        public void write(JsonWriter out, GetExperimentsRequest value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            PlayFabJson.writeMap(out.name("CustomTags"), value.CustomTags, stringAdapter);
+            out.endObject();
+        }
+
+        @Override
+        public GetExperimentsRequest read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            GetExperimentsRequest value = new GetExperimentsRequest();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "CustomTags": value.CustomTags = PlayFabJson.readMap(in, stringAdapter); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class GetExperimentsResultAdapter extends TypeAdapter<GetExperimentsResult> {
+        private final TypeAdapter<Experiment> experimentAdapter;
+
+        private GetExperimentsResultAdapter(Gson gson) {
+            experimentAdapter = gson.getAdapter(Experiment.class);
+        }
+
+        @Override
+        public void write(JsonWriter out, GetExperimentsResult value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            PlayFabJson.writeList(out.name("Experiments"), value.Experiments, experimentAdapter);
+            out.endObject();
+        }
+
+        @Override
+        public GetExperimentsResult read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            GetExperimentsResult value = new GetExperimentsResult();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "Experiments": value.Experiments = PlayFabJson.readList(in, experimentAdapter); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class GetLatestScorecardRequestAdapter extends TypeAdapter<GetLatestScorecardRequest> {
+        private final TypeAdapter<String> stringAdapter;
+
+        private GetLatestScorecardRequestAdapter(Gson gson) {
+            stringAdapter = gson.getAdapter(String.class);
+        }
+
+        @Override
+        public void write(JsonWriter out, GetLatestScorecardRequest value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            PlayFabJson.writeMap(out.name("CustomTags"), value.CustomTags, stringAdapter);
+            out.name("ExperimentId").value(value.ExperimentId);
+            out.endObject();
+        }
+
+        @Override
+        public GetLatestScorecardRequest read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            GetLatestScorecardRequest value = new GetLatestScorecardRequest();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "CustomTags": value.CustomTags = PlayFabJson.readMap(in, stringAdapter); break;
+                        case "ExperimentId": value.ExperimentId = PlayFabJson.readString(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class GetLatestScorecardResultAdapter extends TypeAdapter<GetLatestScorecardResult> {
+        private final TypeAdapter<Scorecard> scorecardAdapter;
+
+        private GetLatestScorecardResultAdapter(Gson gson) {
+            scorecardAdapter = gson.getAdapter(Scorecard.class);
+        }
+
+        @Override
+        public void write(JsonWriter out, GetLatestScorecardResult value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            scorecardAdapter.write(out.name("Scorecard"), value.Scorecard);
+            out.endObject();
+        }
+
+        @Override
+        public GetLatestScorecardResult read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            GetLatestScorecardResult value = new GetLatestScorecardResult();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "Scorecard": value.Scorecard = scorecardAdapter.read(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class GetTreatmentAssignmentRequestAdapter extends TypeAdapter<GetTreatmentAssignmentRequest> {
+        private final TypeAdapter<String> stringAdapter;
+        private final TypeAdapter<EntityKey> entityKeyAdapter;
+
+        private GetTreatmentAssignmentRequestAdapter(Gson gson) {
+            stringAdapter = gson.getAdapter(String.class);
+            entityKeyAdapter = gson.getAdapter(EntityKey.class);
+        }
+
+        @Override
+        public void write(JsonWriter out, GetTreatmentAssignmentRequest value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            PlayFabJson.writeMap(out.name("CustomTags"), value.CustomTags, stringAdapter);
+            entityKeyAdapter.write(out.name("Entity"), value.Entity);
+            out.endObject();
+        }
+
+        @Override
+        public GetTreatmentAssignmentRequest read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            GetTreatmentAssignmentRequest value = new GetTreatmentAssignmentRequest();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "CustomTags": value.CustomTags = PlayFabJson.readMap(in, stringAdapter); break;
+                        case "Entity": value.Entity = entityKeyAdapter.read(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class GetTreatmentAssignmentResultAdapter extends TypeAdapter<GetTreatmentAssignmentResult> {
+        private final TypeAdapter<TreatmentAssignment> treatmentAssignmentAdapter;
+
+        private GetTreatmentAssignmentResultAdapter(Gson gson) {
+            treatmentAssignmentAdapter = gson.getAdapter(TreatmentAssignment.class);
+        }
+
+        @Override
+        public void write(JsonWriter out, GetTreatmentAssignmentResult value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            treatmentAssignmentAdapter.write(out.name("TreatmentAssignment"), value.TreatmentAssignment);
+            out.endObject();
+        }
+
+        @Override
+        public GetTreatmentAssignmentResult read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            GetTreatmentAssignmentResult value = new GetTreatmentAssignmentResult();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "TreatmentAssignment": value.TreatmentAssignment = treatmentAssignmentAdapter.read(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class MetricDataAdapter extends TypeAdapter<MetricData> {
+        private final TypeAdapter<Double> doubleAdapter;
+        private final TypeAdapter<Float> floatAdapter;
+
+        private MetricDataAdapter(Gson gson) {
+            doubleAdapter = gson.getAdapter(Double.class);
+            floatAdapter = gson.getAdapter(Float.class);
+        }
+
+        @Override
+        public void write(JsonWriter out, MetricData value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            doubleAdapter.write(out.name("ConfidenceIntervalEnd"), value.ConfidenceIntervalEnd);
+            doubleAdapter.write(out.name("ConfidenceIntervalStart"), value.ConfidenceIntervalStart);
+            floatAdapter.write(out.name("DeltaAbsoluteChange"), value.DeltaAbsoluteChange);
+            floatAdapter.write(out.name("DeltaRelativeChange"), value.DeltaRelativeChange);
+            out.name("InternalName").value(value.InternalName);
+            out.name("Movement").value(value.Movement);
+            out.name("Name").value(value.Name);
+            floatAdapter.write(out.name("PMove"), value.PMove);
+            floatAdapter.write(out.name("PValue"), value.PValue);
+            floatAdapter.write(out.name("PValueThreshold"), value.PValueThreshold);
+            out.name("StatSigLevel").value(value.StatSigLevel);
+            floatAdapter.write(out.name("StdDev"), value.StdDev);
+            floatAdapter.write(out.name("Value"), value.Value);
+            out.endObject();
+        }
+
+        @Override
+        public MetricData read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            MetricData value = new MetricData();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "ConfidenceIntervalEnd": value.ConfidenceIntervalEnd = doubleAdapter.read(in); break;
+                        case "ConfidenceIntervalStart": value.ConfidenceIntervalStart = doubleAdapter.read(in); break;
+                        case "DeltaAbsoluteChange": value.DeltaAbsoluteChange = floatAdapter.read(in); break;
+                        case "DeltaRelativeChange": value.DeltaRelativeChange = floatAdapter.read(in); break;
+                        case "InternalName": value.InternalName = PlayFabJson.readString(in); break;
+                        case "Movement": value.Movement = PlayFabJson.readString(in); break;
+                        case "Name": value.Name = PlayFabJson.readString(in); break;
+                        case "PMove": value.PMove = floatAdapter.read(in); break;
+                        case "PValue": value.PValue = floatAdapter.read(in); break;
+                        case "PValueThreshold": value.PValueThreshold = floatAdapter.read(in); break;
+                        case "StatSigLevel": value.StatSigLevel = PlayFabJson.readString(in); break;
+                        case "StdDev": value.StdDev = floatAdapter.read(in); break;
+                        case "Value": value.Value = floatAdapter.read(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class ScorecardAdapter extends TypeAdapter<Scorecard> {
+        private final TypeAdapter<Double> doubleAdapter;
+        private final TypeAdapter<AnalysisTaskState> analysisTaskStateAdapter;
+        private final TypeAdapter<ScorecardDataRow> scorecardDataRowAdapter;
+
+        private ScorecardAdapter(Gson gson) {
+            doubleAdapter = gson.getAdapter(Double.class);
+            analysisTaskStateAdapter = gson.getAdapter(AnalysisTaskState.class);
+            scorecardDataRowAdapter = gson.getAdapter(ScorecardDataRow.class);
+        }
+
+        @Override
+        public void write(JsonWriter out, Scorecard value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.name("DateGenerated").value(value.DateGenerated);
+            out.name("Duration").value(value.Duration);
+            doubleAdapter.write(out.name("EventsProcessed"), value.EventsProcessed);
+            out.name("ExperimentId").value(value.ExperimentId);
+            out.name("ExperimentName").value(value.ExperimentName);
+            analysisTaskStateAdapter.write(out.name("LatestJobStatus"), value.LatestJobStatus);
+            out.name("SampleRatioMismatch").value(value.SampleRatioMismatch);
+            PlayFabJson.writeList(out.name("ScorecardDataRows"), value.ScorecardDataRows, scorecardDataRowAdapter);
+            out.endObject();
+        }
+
+        @Override
+        public Scorecard read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            Scorecard value = new Scorecard();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "DateGenerated": value.DateGenerated = PlayFabJson.readString(in); break;
+                        case "Duration": value.Duration = PlayFabJson.readString(in); break;
+                        case "EventsProcessed": value.EventsProcessed = doubleAdapter.read(in); break;
+                        case "ExperimentId": value.ExperimentId = PlayFabJson.readString(in); break;
+                        case "ExperimentName": value.ExperimentName = PlayFabJson.readString(in); break;
+                        case "LatestJobStatus": value.LatestJobStatus = analysisTaskStateAdapter.read(in); break;
+                        case "SampleRatioMismatch": value.SampleRatioMismatch = PlayFabJson.readBoolean(in); break;
+                        case "ScorecardDataRows": value.ScorecardDataRows = PlayFabJson.readList(in, scorecardDataRowAdapter); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class ScorecardDataRowAdapter extends TypeAdapter<ScorecardDataRow> {
+        private final TypeAdapter<MetricData> metricDataAdapter;
+
+        private ScorecardDataRowAdapter(Gson gson) {
+            metricDataAdapter = gson.getAdapter(MetricData.class);
+        }
+
+        @Override
+        public void write(JsonWriter out, ScorecardDataRow value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.name("IsControl").value(value.IsControl);
+            PlayFabJson.writeMap(out.name("MetricDataRows"), value.MetricDataRows, metricDataAdapter);
+            out.name("PlayerCount").value(value.PlayerCount);
+            out.name("VariantName").value(value.VariantName);
+            out.endObject();
+        }
+
+        @Override
+        public ScorecardDataRow read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            ScorecardDataRow value = new ScorecardDataRow();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "IsControl": value.IsControl = PlayFabJson.readBoolean(in); break;
+                        case "MetricDataRows": value.MetricDataRows = PlayFabJson.readMap(in, metricDataAdapter); break;
+                        case "PlayerCount": value.PlayerCount = PlayFabJson.readLong(in); break;
+                        case "VariantName": value.VariantName = PlayFabJson.readString(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class StartExperimentRequestAdapter extends TypeAdapter<StartExperimentRequest> {
+        private final TypeAdapter<String> stringAdapter;
+
+        private StartExperimentRequestAdapter(Gson gson) {
+            stringAdapter = gson.getAdapter(String.class);
+        }
+
+        @Override
+        public void write(JsonWriter out, StartExperimentRequest value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            PlayFabJson.writeMap(out.name("CustomTags"), value.CustomTags, stringAdapter);
+            out.name("ExperimentId").value(value.ExperimentId);
+            out.endObject();
+        }
+
+        @Override
+        public StartExperimentRequest read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            StartExperimentRequest value = new StartExperimentRequest();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "CustomTags": value.CustomTags = PlayFabJson.readMap(in, stringAdapter); break;
+                        case "ExperimentId": value.ExperimentId = PlayFabJson.readString(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class StopExperimentRequestAdapter extends TypeAdapter<StopExperimentRequest> {
+        private final TypeAdapter<String> stringAdapter;
+
+        private StopExperimentRequestAdapter(Gson gson) {
+            stringAdapter = gson.getAdapter(String.class);
+        }
+
+        @Override
+        public void write(JsonWriter out, StopExperimentRequest value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            PlayFabJson.writeMap(out.name("CustomTags"), value.CustomTags, stringAdapter);
+            out.name("ExperimentId").value(value.ExperimentId);
+            out.endObject();
+        }
+
+        @Override
+        public StopExperimentRequest read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            StopExperimentRequest value = new StopExperimentRequest();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "CustomTags": value.CustomTags = PlayFabJson.readMap(in, stringAdapter); break;
+                        case "ExperimentId": value.ExperimentId = PlayFabJson.readString(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class TreatmentAssignmentAdapter extends TypeAdapter<TreatmentAssignment> {
+        private final TypeAdapter<Variable> variableAdapter;
+        private final TypeAdapter<String> stringAdapter;
+
+        private TreatmentAssignmentAdapter(Gson gson) {
+            variableAdapter = gson.getAdapter(Variable.class);
+            stringAdapter = gson.getAdapter(String.class);
+        }
+
+        @Override
+        public void write(JsonWriter out, TreatmentAssignment value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            PlayFabJson.writeList(out.name("Variables"), value.Variables, variableAdapter);
+            PlayFabJson.writeList(out.name("Variants"), value.Variants, stringAdapter);
+            out.endObject();
+        }
+
+        @Override
+        public TreatmentAssignment read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            TreatmentAssignment value = new TreatmentAssignment();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "Variables": value.Variables = PlayFabJson.readList(in, variableAdapter); break;
+                        case "Variants": value.Variants = PlayFabJson.readList(in, stringAdapter); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class UpdateExclusionGroupRequestAdapter extends TypeAdapter<UpdateExclusionGroupRequest> {
+        private final TypeAdapter<String> stringAdapter;
+
+        private UpdateExclusionGroupRequestAdapter(Gson gson) {
+            stringAdapter = gson.getAdapter(String.class);
+        }
+
+        @Override
+        public void write(JsonWriter out, UpdateExclusionGroupRequest value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            PlayFabJson.writeMap(out.name("CustomTags"), value.CustomTags, stringAdapter);
+            out.name("Description").value(value.Description);
+            out.name("ExclusionGroupId").value(value.ExclusionGroupId);
+            out.name("Name").value(value.Name);
+            out.endObject();
+        }
+
+        @Override
+        public UpdateExclusionGroupRequest read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            UpdateExclusionGroupRequest value = new UpdateExclusionGroupRequest();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "CustomTags": value.CustomTags = PlayFabJson.readMap(in, stringAdapter); break;
+                        case "Description": value.Description = PlayFabJson.readString(in); break;
+                        case "ExclusionGroupId": value.ExclusionGroupId = PlayFabJson.readString(in); break;
+                        case "Name": value.Name = PlayFabJson.readString(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class UpdateExperimentRequestAdapter extends TypeAdapter<UpdateExperimentRequest> {
+        private final TypeAdapter<String> stringAdapter;
+        private final TypeAdapter<Date> dateAdapter;
+        private final TypeAdapter<ExperimentType> experimentTypeAdapter;
+        private final TypeAdapter<Variant> variantAdapter;
+
+        private UpdateExperimentRequestAdapter(Gson gson) {
+            stringAdapter = gson.getAdapter(String.class);
+            dateAdapter = gson.getAdapter(Date.class);
+            experimentTypeAdapter = gson.getAdapter(ExperimentType.class);
+            variantAdapter = gson.getAdapter(Variant.class);
+        }
+
+        @Override
+        public void write(JsonWriter out, UpdateExperimentRequest value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            PlayFabJson.writeMap(out.name("CustomTags"), value.CustomTags, stringAdapter);
+            out.name("Description").value(value.Description);
+            dateAdapter.write(out.name("EndDate"), value.EndDate);
+            out.name("ExclusionGroupId").value(value.ExclusionGroupId);
+            out.name("ExclusionGroupTrafficAllocation").value(value.ExclusionGroupTrafficAllocation);
+            experimentTypeAdapter.write(out.name("ExperimentType"), value.ExperimentType);
+            out.name("Id").value(value.Id);
+            out.name("Name").value(value.Name);
+            out.name("SegmentId").value(value.SegmentId);
+            dateAdapter.write(out.name("StartDate"), value.StartDate);
+            PlayFabJson.writeList(out.name("TitlePlayerAccountTestIds"), value.TitlePlayerAccountTestIds, stringAdapter);
+            PlayFabJson.writeList(out.name("Variants"), value.Variants, variantAdapter);
+            out.endObject();
+        }
+
+        @Override
+        public UpdateExperimentRequest read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            UpdateExperimentRequest value = new UpdateExperimentRequest();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "CustomTags": value.CustomTags = PlayFabJson.readMap(in, stringAdapter); break;
+                        case "Description": value.Description = PlayFabJson.readString(in); break;
+                        case "EndDate": value.EndDate = dateAdapter.read(in); break;
+                        case "ExclusionGroupId": value.ExclusionGroupId = PlayFabJson.readString(in); break;
+                        case "ExclusionGroupTrafficAllocation": value.ExclusionGroupTrafficAllocation = PlayFabJson.readLong(in); break;
+                        case "ExperimentType": value.ExperimentType = experimentTypeAdapter.read(in); break;
+                        case "Id": value.Id = PlayFabJson.readString(in); break;
+                        case "Name": value.Name = PlayFabJson.readString(in); break;
+                        case "SegmentId": value.SegmentId = PlayFabJson.readString(in); break;
+                        case "StartDate": value.StartDate = dateAdapter.read(in); break;
+                        case "TitlePlayerAccountTestIds": value.TitlePlayerAccountTestIds = PlayFabJson.readList(in, stringAdapter); break;
+                        case "Variants": value.Variants = PlayFabJson.readList(in, variantAdapter); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class VariableAdapter extends TypeAdapter<Variable> {
+        private VariableAdapter(Gson gson) {
+        }
+
+        @Override
+        public void write(JsonWriter out, Variable value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.name("Name").value(value.Name);
+            out.name("Value").value(value.Value);
+            out.endObject();
+        }
+
+        @Override
+        public Variable read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            Variable value = new Variable();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "Name": value.Name = PlayFabJson.readString(in); break;
+                        case "Value": value.Value = PlayFabJson.readString(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class VariantAdapter extends TypeAdapter<Variant> {
+        private final TypeAdapter<Variable> variableAdapter;
+
+        private VariantAdapter(Gson gson) {
+            variableAdapter = gson.getAdapter(Variable.class);
+        }
+
+        @Override
+        public void write(JsonWriter out, Variant value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.name("Description").value(value.Description);
+            out.name("Id").value(value.Id);
+            out.name("IsControl").value(value.IsControl);
+            out.name("Name").value(value.Name);
+            out.name("TitleDataOverrideLabel").value(value.TitleDataOverrideLabel);
+            out.name("TrafficPercentage").value(value.TrafficPercentage);
+            PlayFabJson.writeList(out.name("Variables"), value.Variables, variableAdapter);
+            out.endObject();
+        }
+
+        @Override
+        public Variant read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            Variant value = new Variant();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "Description": value.Description = PlayFabJson.readString(in); break;
+                        case "Id": value.Id = PlayFabJson.readString(in); break;
+                        case "IsControl": value.IsControl = PlayFabJson.readBoolean(in); break;
+                        case "Name": value.Name = PlayFabJson.readString(in); break;
+                        case "TitleDataOverrideLabel": value.TitleDataOverrideLabel = PlayFabJson.readString(in); break;
+                        case "TrafficPercentage": value.TrafficPercentage = PlayFabJson.readLong(in); break;
+                        case "Variables": value.Variables = PlayFabJson.readList(in, variableAdapter); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+}
@@ -0,0 +1,735 @@
+package com.playfab;
+
+import com.playfab.internal.*;
+import com.playfab.PlayFabGroupsModels.*;
+import com.playfab.PlayFabErrors.*;
+import com.playfab.PlayFabSettings;
+import java.util.concurrent.*;
+import java.util.*;
+
+    /**
+     * The calls of PlayFabGroupsAPI, made with a PlayFabApiContext of this object's own instead of PlayFabSettings. Login
+     * and GetEntityToken calls keep the credentials they return in that context
+     */
+public class PlayFabGroupsInstanceAPI extends PlayFabInstanceAPI {
+    private final Async async = new Async();
+
+    public PlayFabGroupsInstanceAPI(PlayFabApiContext context) {
+        super(context);
+    }
+
+    /**
+     * Accepts an outstanding invitation to to join a group
+     * @param request AcceptGroupApplicationRequest
+     * @return EmptyResponse
+     */
+    public PlayFabResult<EmptyResponse> AcceptGroupApplication(final AcceptGroupApplicationRequest request) {
+        try {
+            return PlayFabGroupsAPI.privateAcceptGroupApplicationAsync(this, request);
+        } catch(Exception e) {
+            PlayFabResult<EmptyResponse> exceptionResult = new PlayFabResult<EmptyResponse>();
+            exceptionResult.Error = PlayFabHTTP.GeneratePfError(-1, PlayFabErrorCode.Unknown, e.getMessage(), null, null);
+            return exceptionResult;
+        }
+    }
+
+    /**
+     * Accepts an invitation to join a group
+     * @param request AcceptGroupInvitationRequest
+     * @return EmptyResponse
+     */
+    public PlayFabResult<EmptyResponse> AcceptGroupInvitation(final AcceptGroupInvitationRequest request) {
+        try {
+            return PlayFabGroupsAPI.privateAcceptGroupInvitationAsync(this, request);
+        } catch(Exception e) {
+            PlayFabResult<EmptyResponse> exceptionResult = new PlayFabResult<EmptyResponse>();
+            exceptionResult.Error = PlayFabHTTP.GeneratePfError(-1, PlayFabErrorCode.Unknown, e.getMessage(), null, null);
+            return exceptionResult;
+        }
+    }
+
+    /**
+     * Adds members to a group or role.
+     * @param request AddMembersRequest
+     * @return EmptyResponse
+     */
+    public PlayFabResult<EmptyResponse> AddMembers(final AddMembersRequest request) {
+        try {
+            return PlayFabGroupsAPI.privateAddMembersAsync(this, request);
+        } catch(Exception e) {
+            PlayFabResult<EmptyResponse> exceptionResult = new PlayFabResult<EmptyResponse>();
+            exceptionResult.Error = PlayFabHTTP.GeneratePfError(-1, PlayFabErrorCode.Unknown, e.getMessage(), null, null);
+            return exceptionResult;
+        }
+    }
+
+    /**
+     * Applies to join a group
+     * @param request ApplyToGroupRequest
+     * @return ApplyToGroupResponse
+     */
+    public PlayFabResult<ApplyToGroupResponse> ApplyToGroup(final ApplyToGroupRequest request) {
+        try {
+            return PlayFabGroupsAPI.privateApplyToGroupAsync(this, request);
+        } catch(Exception e) {
+            PlayFabResult<ApplyToGroupResponse> exceptionResult = new PlayFabResult<ApplyToGroupResponse>();
+            exceptionResult.Error = PlayFabHTTP.GeneratePfError(-1, PlayFabErrorCode.Unknown, e.getMessage(), null, null);
+            return exceptionResult;
+        }
+    }
+
+    /**
+     * Blocks a list of entities from joining a group.
+     * @param request BlockEntityRequest
+     * @return EmptyResponse
+     */
+    public PlayFabResult<EmptyResponse> BlockEntity(final BlockEntityRequest request) {
+        try {
+            return PlayFabGroupsAPI.privateBlockEntityAsync(this, request);
+        } catch(Exception e) {
+            PlayFabResult<EmptyResponse> exceptionResult = new PlayFabResult<EmptyResponse>();
+            exceptionResult.Error = PlayFabHTTP.GeneratePfError(-1, PlayFabErrorCode.Unknown, e.getMessage(), null, null);
+            return exceptionResult;
+        }
+    }
+
+    /**
+     * Changes the role membership of a list of entities from one role to another.
+     * @param request ChangeMemberRoleRequest
+     * @return EmptyResponse
+     */
+    public PlayFabResult<EmptyResponse> ChangeMemberRole(final ChangeMemberRoleRequest request) {
+        try {
+            return PlayFabGroupsAPI.privateChangeMemberRoleAsync(this, request);
+        } catch(Exception e) {
+            PlayFabResult<EmptyResponse> exceptionResult = new PlayFabResult<EmptyResponse>();
+            exceptionResult.Error = PlayFabHTTP.GeneratePfError(-1, PlayFabErrorCode.Unknown, e.getMessage(), null, null);
+            return exceptionResult;
+        }
+    }
+
+    /**
+     * Creates a new group.
+     * @param request CreateGroupRequest
+     * @return CreateGroupResponse
+     */
+    public PlayFabResult<CreateGroupResponse> CreateGroup(final CreateGroupRequest request) {
+        try {
+            return PlayFabGroupsAPI.privateCreateGroupAsync(this, request);
+        } catch(Exception e) {
+            PlayFabResult<CreateGroupResponse> exceptionResult = new PlayFabResult<CreateGroupResponse>();
+            exceptionResult.Error = PlayFabHTTP.GeneratePfError(-1, PlayFabErrorCode.Unknown, e.getMessage(), null, null);
+            return exceptionResult;
+        }
+    }
+
+    /**
+     * Creates a new group role.
+     * @param request CreateGroupRoleRequest
+     * @return CreateGroupRoleResponse
+     */
+    public PlayFabResult<CreateGroupRoleResponse> CreateRole(final CreateGroupRoleRequest request) {
+        try {
+            return PlayFabGroupsAPI.privateCreateRoleAsync(this, request);
+        } catch(Exception e) {
+            PlayFabResult<CreateGroupRoleResponse> exceptionResult = new PlayFabResult<CreateGroupRoleResponse>();
+            exceptionResult.Error = PlayFabHTTP.GeneratePfError(-1, PlayFabErrorCode.Unknown, e.getMessage(), null, null);
+            return exceptionResult;
+        }
+    }
+
+    /**
+     * Deletes a group and all roles, invitations, join requests, and blocks associated with it.
+     * @param request DeleteGroupRequest
+     * @return EmptyResponse
+     */
+    public PlayFabResult<EmptyResponse> DeleteGroup(final DeleteGroupRequest request) {
+        try {
+            return PlayFabGroupsAPI.privateDeleteGroupAsync(this, request);
+        } catch(Exception e) {
+            PlayFabResult<EmptyResponse> exceptionResult = new PlayFabResult<EmptyResponse>();
+            exceptionResult.Error = PlayFabHTTP.GeneratePfError(-1, PlayFabErrorCode.Unknown, e.getMessage(), null, null);
+            return exceptionResult;
+        }
+    }
+
+    /**
+     * Deletes an existing role in a group.
+     * @param request DeleteRoleRequest
+     * @return EmptyResponse
+     */
+    public PlayFabResult<EmptyResponse> DeleteRole(final DeleteRoleRequest request) {
+        try {
+            return PlayFabGroupsAPI.privateDeleteRoleAsync(this, request);
+        } catch(Exception e) {
+            PlayFabResult<EmptyResponse> exceptionResult = new PlayFabResult<EmptyResponse>();
+            exceptionResult.Error = PlayFabHTTP.GeneratePfError(-1, PlayFabErrorCode.Unknown, e.getMessage(), null, null);
+            return exceptionResult;
+        }
+    }
+
+    /**
+     * Gets information about a group and its roles
+     * @param request GetGroupRequest
+     * @return GetGroupResponse
+     */
+    public PlayFabResult<GetGroupResponse> GetGroup(final GetGroupRequest request) {
+        try {
+            return PlayFabGroupsAPI.privateGetGroupAsync(this, request);
+        } catch(Exception e) {
+            PlayFabResult<GetGroupResponse> exceptionResult = new PlayFabResult<GetGroupResponse>();
+            exceptionResult.Error = PlayFabHTTP.GeneratePfError(-1, PlayFabErrorCode.Unknown, e.getMessage(), null, null);
+            return exceptionResult;
+        }
+    }
+
+    /**
+     * Invites a player to join a group
+     * @param request InviteToGroupRequest
+     * @return InviteToGroupResponse
+     */
+    public PlayFabResult<InviteToGroupResponse> InviteToGroup(final InviteToGroupRequest request) {
+        try {
+            return PlayFabGroupsAPI.privateInviteToGroupAsync(this, request);
+        } catch(Exception e) {
+            PlayFabResult<InviteToGroupResponse> exceptionResult = new PlayFabResult<InviteToGroupResponse>();
+            exceptionResult.Error = PlayFabHTTP.GeneratePfError(-1, PlayFabErrorCode.Unknown, e.getMessage(), null, null);
+            return exceptionResult;
+        }
+    }
+
+    /**
+     * Checks to see if an entity is a member of a group or role within the group
+     * @param request IsMemberRequest
+     * @return IsMemberResponse
+     */
+    public PlayFabResult<IsMemberResponse> IsMember(final IsMemberRequest request) {
+        try {
+            return PlayFabGroupsAPI.privateIsMemberAsync(this, request);
+        } catch(Exception e) {
+            PlayFabResult<IsMemberResponse> exceptionResult = new PlayFabResult<IsMemberResponse>();
+            exceptionResult.Error = PlayFabHTTP.GeneratePfError(-1, PlayFabErrorCode.Unknown, e.getMessage(), null, null);
+            return exceptionResult;
+        }
+    }
+
+    /**
+     * Lists all outstanding requests to join a group
+     * @param request ListGroupApplicationsRequest
+     * @return ListGroupApplicationsResponse
+     */
+    public PlayFabResult<ListGroupApplicationsResponse> ListGroupApplications(final ListGroupApplicationsRequest request) {
+        try {
+            return PlayFabGroupsAPI.privateListGroupApplicationsAsync(this, request);
+        } catch(Exception e) {
+            PlayFabResult<ListGroupApplicationsResponse> exceptionResult = new PlayFabResult<ListGroupApplicationsResponse>();
+            exceptionResult.Error = PlayFabHTTP.GeneratePfError(-1, PlayFabErrorCode.Unknown, e.getMessage(), null, null);
+            return exceptionResult;
+        }
+    }
+
+    /**
+     * Lists all entities blocked from joining a group
+     * @param request ListGroupBlocksRequest
+     * @return ListGroupBlocksResponse
+     */
+    public PlayFabResult<ListGroupBlocksResponse> ListGroupBlocks(final ListGroupBlocksRequest request) {
+        try {
+            return PlayFabGroupsAPI.privateListGroupBlocksAsync(this, request);
+        } catch(Exception e) {
+            PlayFabResult<ListGroupBlocksResponse> exceptionResult = new PlayFabResult<ListGroupBlocksResponse>();
+            exceptionResult.Error = PlayFabHTTP.GeneratePfError(-1, PlayFabErrorCode.Unknown, e.getMessage(), null, null);
+            return exceptionResult;
+        }
+    }
+
+    /**
+     * Lists all outstanding invitations for a group
+     * @param request ListGroupInvitationsRequest
+     * @return ListGroupInvitationsResponse
+     */
+    public PlayFabResult<ListGroupInvitationsResponse> ListGroupInvitations(final ListGroupInvitationsRequest request) {
+        try {
+            return PlayFabGroupsAPI.privateListGroupInvitationsAsync(this, request);
+        } catch(Exception e) {
+            PlayFabResult<ListGroupInvitationsResponse> exceptionResult = new PlayFabResult<ListGroupInvitationsResponse>();
+            exceptionResult.Error = PlayFabHTTP.GeneratePfError(-1, PlayFabErrorCode.Unknown, e.getMessage(), null, null);
+            return exceptionResult;
+        }
+    }
+
+    /**
+     * Lists all members for a group
+     * @param request ListGroupMembersRequest
+     * @return ListGroupMembersResponse
+     */
+    public PlayFabResult<ListGroupMembersResponse> ListGroupMembers(final ListGroupMembersRequest request) {
+        try {
+            return PlayFabGroupsAPI.privateListGroupMembersAsync(this, request);
+        } catch(Exception e) {
+            PlayFabResult<ListGroupMembersResponse> exceptionResult = new PlayFabResult<ListGroupMembersResponse>();
+            exceptionResult.Error = PlayFabHTTP.GeneratePfError(-1, PlayFabErrorCode.Unknown, e.getMessage(), null, null);
+            return exceptionResult;
+        }
+    }
+
+    /**
+     * Lists all groups and roles for an entity
+     * @param request ListMembershipRequest
+     * @return ListMembershipResponse
+     */
+    public PlayFabResult<ListMembershipResponse> ListMembership(final ListMembershipRequest request) {
+        try {
+            return PlayFabGroupsAPI.privateListMembershipAsync(this, request);
+        } catch(Exception e) {
+            PlayFabResult<ListMembershipResponse> exceptionResult = new PlayFabResult<ListMembershipResponse>();
+            exceptionResult.Error = PlayFabHTTP.GeneratePfError(-1, PlayFabErrorCode.Unknown, e.getMessage(), null, null);
+            return exceptionResult;
+        }
+    }
+
+    /**
+     * Lists all outstanding invitations and group applications for an entity
+     * @param request ListMembershipOpportunitiesRequest
+     * @return ListMembershipOpportunitiesResponse
+     */
+    public PlayFabResult<ListMembershipOpportunitiesResponse> ListMembershipOpportunities(final ListMembershipOpportunitiesRequest request) {
+        try {
+            return PlayFabGroupsAPI.privateListMembershipOpportunitiesAsync(this, request);
+        } catch(Exception e) {
+            PlayFabResult<ListMembershipOpportunitiesResponse> exceptionResult = new PlayFabResult<ListMembershipOpportunitiesResponse>();
+            exceptionResult.Error = PlayFabHTTP.GeneratePfError(-1, PlayFabErrorCode.Unknown, e.getMessage(), null, null);
+            return exceptionResult;
+        }
+    }
+
+    /**
+     * Removes an application to join a group
+     * @param request RemoveGroupApplicationRequest
+     * @return EmptyResponse
+     */
+    public PlayFabResult<EmptyResponse> RemoveGroupApplication(final RemoveGroupApplicationRequest request) {
+        try {
+            return PlayFabGroupsAPI.privateRemoveGroupApplicationAsync(this, request);
+        } catch(Exception e) {
+            PlayFabResult<EmptyResponse> exceptionResult = new PlayFabResult<EmptyResponse>();
+            exceptionResult.Error = PlayFabHTTP.GeneratePfError(-1, PlayFabErrorCode.Unknown, e.getMessage(), null, null);
+            return exceptionResult;
+        }
+    }
+
+    /**
+     * Removes an invitation join a group
+     * @param request RemoveGroupInvitationRequest
+     * @return EmptyResponse
+     */
+    public PlayFabResult<EmptyResponse> RemoveGroupInvitation(final RemoveGroupInvitationRequest request) {
+        try {
+            return PlayFabGroupsAPI.privateRemoveGroupInvitationAsync(this, request);
+        } catch(Exception e) {
+            PlayFabResult<EmptyResponse> exceptionResult = new PlayFabResult<EmptyResponse>();
+            exceptionResult.Error = PlayFabHTTP.GeneratePfError(-1, PlayFabErrorCode.Unknown, e.getMessage(), null, null);
+            return exceptionResult;
+        }
+    }
+
+    /**
+     * Removes members from a group.
+     * @param request RemoveMembersRequest
+     * @return EmptyResponse
+     */
+    public PlayFabResult<EmptyResponse> RemoveMembers(final RemoveMembersRequest request) {
+        try {
+            return PlayFabGroupsAPI.privateRemoveMembersAsync(this, request);
+        } catch(Exception e) {
+            PlayFabResult<EmptyResponse> exceptionResult = new PlayFabResult<EmptyResponse>();
+            exceptionResult.Error = PlayFabHTTP.GeneratePfError(-1, PlayFabErrorCode.Unknown, e.getMessage(), null, null);
+            return exceptionResult;
+        }
+    }
+
+    /**
+     * Unblocks a list of entities from joining a group
+     * @param request UnblockEntityRequest
+     * @return EmptyResponse
+     */
+    public PlayFabResult<EmptyResponse> UnblockEntity(final UnblockEntityRequest request) {
+        try {
+            return PlayFabGroupsAPI.privateUnblockEntityAsync(this, request);
+        } catch(Exception e) {
+            PlayFabResult<EmptyResponse> exceptionResult = new PlayFabResult<EmptyResponse>();
+            exceptionResult.Error = PlayFabHTTP.GeneratePfError(-1, PlayFabErrorCode.Unknown, e.getMessage(), null, null);
+            return exceptionResult;
+        }
+    }
+
+    /**
+     * Updates non-membership data about a group.
+     * @param request UpdateGroupRequest
+     * @return UpdateGroupResponse
+     */
+    public PlayFabResult<UpdateGroupResponse> UpdateGroup(final UpdateGroupRequest request) {
+        try {
+            return PlayFabGroupsAPI.privateUpdateGroupAsync(this, request);
+        } catch(Exception e) {
+            PlayFabResult<UpdateGroupResponse> exceptionResult = new PlayFabResult<UpdateGroupResponse>();
+            exceptionResult.Error = PlayFabHTTP.GeneratePfError(-1, PlayFabErrorCode.Unknown, e.getMessage(), null, null);
+            return exceptionResult;
+        }
+    }
+
+    /**
+     * Updates metadata about a role.
+     * @param request UpdateGroupRoleRequest
+     * @return UpdateGroupRoleResponse
+     */
+    public PlayFabResult<UpdateGroupRoleResponse> UpdateRole(final UpdateGroupRoleRequest request) {
+        try {
+            return PlayFabGroupsAPI.privateUpdateRoleAsync(this, request);
+        } catch(Exception e) {
+            PlayFabResult<UpdateGroupRoleResponse> exceptionResult = new PlayFabResult<UpdateGroupRoleResponse>();
+            exceptionResult.Error = PlayFabHTTP.GeneratePfError(-1, PlayFabErrorCode.Unknown, e.getMessage(), null, null);
+            return exceptionResult;
+        }
+    }
+
+    /**
+     * @return Non-blocking versions of every call, made with this object's context and started on PlayFabSettings.AsyncExecutor
+     */
+    public Async async() {
+        return async;
+    }
+
+    /**
+     * Non-blocking versions of the PlayFabGroupsInstanceAPI calls. Each call is already running when its PlayFabFuture is returned.
+     */
+    public class Async {
+        private Async() {
+        }
+
+        /**
+         * Accepts an outstanding invitation to to join a group
+         * @param request AcceptGroupApplicationRequest
+         * @return Running future that will complete with EmptyResponse
+         */
+        public PlayFabFuture<PlayFabResult<EmptyResponse>> AcceptGroupApplication(final AcceptGroupApplicationRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<EmptyResponse>>() {
+                public PlayFabResult<EmptyResponse> call() throws Exception {
+                    return PlayFabGroupsAPI.privateAcceptGroupApplicationAsync(PlayFabGroupsInstanceAPI.this, request);
+                }
+            });
+        }
+
+        /**
+         * Accepts an invitation to join a group
+         * @param request AcceptGroupInvitationRequest
+         * @return Running future that will complete with EmptyResponse
+         */
+        public PlayFabFuture<PlayFabResult<EmptyResponse>> AcceptGroupInvitation(final AcceptGroupInvitationRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<EmptyResponse>>() {
+                public PlayFabResult<EmptyResponse> call() throws Exception {
+                    return PlayFabGroupsAPI.privateAcceptGroupInvitationAsync(PlayFabGroupsInstanceAPI.this, request);
+                }
+            });
+        }
+
+        /**
+         * Adds members to a group or role.
+         * @param request AddMembersRequest
+         * @return Running future that will complete with EmptyResponse
+         */
+        public PlayFabFuture<PlayFabResult<EmptyResponse>> AddMembers(final AddMembersRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<EmptyResponse>>() {
+                public PlayFabResult<EmptyResponse> call() throws Exception {
+                    return PlayFabGroupsAPI.privateAddMembersAsync(PlayFabGroupsInstanceAPI.this, request);
+                }
+            });
+        }
+
+        /**
+         * Applies to join a group
+         * @param request ApplyToGroupRequest
+         * @return Running future that will complete with ApplyToGroupResponse
+         */
+        public PlayFabFuture<PlayFabResult<ApplyToGroupResponse>> ApplyToGroup(final ApplyToGroupRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<ApplyToGroupResponse>>() {
+                public PlayFabResult<ApplyToGroupResponse> call() throws Exception {
+                    return PlayFabGroupsAPI.privateApplyToGroupAsync(PlayFabGroupsInstanceAPI.this, request);
+                }
+            });
+        }
+
+        /**
+         * Blocks a list of entities from joining a group.
+         * @param request BlockEntityRequest
+         * @return Running future that will complete with EmptyResponse
+         */
+        public PlayFabFuture<PlayFabResult<EmptyResponse>> BlockEntity(final BlockEntityRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<EmptyResponse>>() {
+                public PlayFabResult<EmptyResponse> call() throws Exception {
+                    return PlayFabGroupsAPI.privateBlockEntityAsync(PlayFabGroupsInstanceAPI.this, request);
+                }
+            });
+        }
+
+        /**
+         * Changes the role membership of a list of entities from one role to another.
+         * @param request ChangeMemberRoleRequest
+         * @return Running future that will complete with EmptyResponse
+         */
+        public PlayFabFuture<PlayFabResult<EmptyResponse>> ChangeMemberRole(final ChangeMemberRoleRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<EmptyResponse>>() {
+                public PlayFabResult<EmptyResponse> call() throws Exception {
+                    return PlayFabGroupsAPI.privateChangeMemberRoleAsync(PlayFabGroupsInstanceAPI.this, request);
+                }
+            });
+        }
+
+        /**
+         * Creates a new group.
+         * @param request CreateGroupRequest
+         * @return Running future that will complete with CreateGroupResponse
+         */
+        public PlayFabFuture<PlayFabResult<CreateGroupResponse>> CreateGroup(final CreateGroupRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<CreateGroupResponse>>() {
+                public PlayFabResult<CreateGroupResponse> call() throws Exception {
+                    return PlayFabGroupsAPI.privateCreateGroupAsync(PlayFabGroupsInstanceAPI.this, request);
+                }
+            });
+        }
+
+        /**
+         * Creates a new group role.
+         * @param request CreateGroupRoleRequest
+         * @return Running future that will complete with CreateGroupRoleResponse
+         */
+        public PlayFabFuture<PlayFabResult<CreateGroupRoleResponse>> CreateRole(final CreateGroupRoleRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<CreateGroupRoleResponse>>() {
+                public PlayFabResult<CreateGroupRoleResponse> call() throws Exception {
+                    return PlayFabGroupsAPI.privateCreateRoleAsync(PlayFabGroupsInstanceAPI.this, request);
+                }
+            });
+        }
+
+        /**
+         * Deletes a group and all roles, invitations, join requests, and blocks associated with it.
+         * @param request DeleteGroupRequest
+         * @return Running future that will complete with EmptyResponse
+         */
+        public PlayFabFuture<PlayFabResult<EmptyResponse>> DeleteGroup(final DeleteGroupRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<EmptyResponse>>() {
+                public PlayFabResult<EmptyResponse> call() throws Exception {
+                    return PlayFabGroupsAPI.privateDeleteGroupAsync(PlayFabGroupsInstanceAPI.this, request);
+                }
+            });
+        }
+
+        /**
+         * Deletes an existing role in a group.
+         * @param request DeleteRoleRequest
+         * @return Running future that will complete with EmptyResponse
+         */
+        public PlayFabFuture<PlayFabResult<EmptyResponse>> DeleteRole(final DeleteRoleRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<EmptyResponse>>() {
+                public PlayFabResult<EmptyResponse> call() throws Exception {
+                    return PlayFabGroupsAPI.privateDeleteRoleAsync(PlayFabGroupsInstanceAPI.this, request);
+                }
+            });
+        }
+
+        /**
+         * Gets information about a group and its roles
+         * @param request GetGroupRequest
+         * @return Running future that will complete with GetGroupResponse
+         */
+        public PlayFabFuture<PlayFabResult<GetGroupResponse>> GetGroup(final GetGroupRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<GetGroupResponse>>() {
+                public PlayFabResult<GetGroupResponse> call() throws Exception {
+                    return PlayFabGroupsAPI.privateGetGroupAsync(PlayFabGroupsInstanceAPI.this, request);
+                }
+            });
+        }
+
+        /**
+         * Invites a player to join a group
+         * @param request InviteToGroupRequest
+         * @return Running future that will complete with InviteToGroupResponse
+         */
+        public PlayFabFuture<PlayFabResult<InviteToGroupResponse>> InviteToGroup(final InviteToGroupRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<InviteToGroupResponse>>() {
+                public PlayFabResult<InviteToGroupResponse> call() throws Exception {
+                    return PlayFabGroupsAPI.privateInviteToGroupAsync(PlayFabGroupsInstanceAPI.this, request);
+                }
+            });
+        }
+
+        /**
+         * Checks to see if an entity is a member of a group or role within the group
+         * @param request IsMemberRequest
+         * @return Running future that will complete with IsMemberResponse
+         */
+        public PlayFabFuture<PlayFabResult<IsMemberResponse>> IsMember(final IsMemberRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<IsMemberResponse>>() {
+                public PlayFabResult<IsMemberResponse> call() throws Exception {
+                    return PlayFabGroupsAPI.privateIsMemberAsync(PlayFabGroupsInstanceAPI.this, request);
+                }
+            });
+        }
+
+        /**
+         * Lists all outstanding requests to join a group
+         * @param request ListGroupApplicationsRequest
+         * @return Running future that will complete with ListGroupApplicationsResponse
+         */
+        public PlayFabFuture<PlayFabResult<ListGroupApplicationsResponse>> ListGroupApplications(final ListGroupApplicationsRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<ListGroupApplicationsResponse>>() {
+                public PlayFabResult<ListGroupApplicationsResponse> call() throws Exception {
+                    return PlayFabGroupsAPI.privateListGroupApplicationsAsync(PlayFabGroupsInstanceAPI.this, request);
+                }
+            });
+        }
+
+        /**
+         * Lists all entities blocked from joining a group
+         * @param request ListGroupBlocksRequest
+         * @return Running future that will complete with ListGroupBlocksResponse
+         */
+        public PlayFabFuture<PlayFabResult<ListGroupBlocksResponse>> ListGroupBlocks(final ListGroupBlocksRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<ListGroupBlocksResponse>>() {
+                public PlayFabResult<ListGroupBlocksResponse> call() throws Exception {
+                    return PlayFabGroupsAPI.privateListGroupBlocksAsync(PlayFabGroupsInstanceAPI.this, request);
+                }
+            });
+        }
+
+        /**
+         * Lists all outstanding invitations for a group
+         * @param request ListGroupInvitationsRequest
+         * @return Running future that will complete with ListGroupInvitationsResponse
+         */
+        public PlayFabFuture<PlayFabResult<ListGroupInvitationsResponse>> ListGroupInvitations(final ListGroupInvitationsRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<ListGroupInvitationsResponse>>() {
+                public PlayFabResult<ListGroupInvitationsResponse> call() throws Exception {
+                    return PlayFabGroupsAPI.privateListGroupInvitationsAsync(PlayFabGroupsInstanceAPI.this, request);
+                }
+            });
+        }
+
+        /**
+         * Lists all members for a group
+         * @param request ListGroupMembersRequest
+         * @return Running future that will complete with ListGroupMembersResponse
+         */
+        public PlayFabFuture<PlayFabResult<ListGroupMembersResponse>> ListGroupMembers(final ListGroupMembersRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<ListGroupMembersResponse>>() {
+                public PlayFabResult<ListGroupMembersResponse> call() throws Exception {
+                    return PlayFabGroupsAPI.privateListGroupMembersAsync(PlayFabGroupsInstanceAPI.this, request);
+                }
+            });
+        }
+
+        /**
+         * Lists all groups and roles for an entity
+         * @param request ListMembershipRequest
+         * @return Running future that will complete with ListMembershipResponse
+         */
+        public PlayFabFuture<PlayFabResult<ListMembershipResponse>> ListMembership(final ListMembershipRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<ListMembershipResponse>>() {
+                public PlayFabResult<ListMembershipResponse> call() throws Exception {
+                    return PlayFabGroupsAPI.privateListMembershipAsync(PlayFabGroupsInstanceAPI.this, request);
+                }
+            });
+        }
+
+        /**
+         * Lists all outstanding invitations and group applications for an entity
+         * @param request ListMembershipOpportunitiesRequest
+         * @return Running future that will complete with ListMembershipOpportunitiesResponse
+         */
+        public PlayFabFuture<PlayFabResult<ListMembershipOpportunitiesResponse>> ListMembershipOpportunities(final ListMembershipOpportunitiesRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<ListMembershipOpportunitiesResponse>>() {
+                public PlayFabResult<ListMembershipOpportunitiesResponse> call() throws Exception {
+                    return PlayFabGroupsAPI.privateListMembershipOpportunitiesAsync(PlayFabGroupsInstanceAPI.this, request);
+                }
+            });
+        }
+
+        /**
+         * Removes an application to join a group
+         * @param request RemoveGroupApplicationRequest
+         * @return Running future that will complete with EmptyResponse
+         */
+        public PlayFabFuture<PlayFabResult<EmptyResponse>> RemoveGroupApplication(final RemoveGroupApplicationRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<EmptyResponse>>() {
+                public PlayFabResult<EmptyResponse> call() throws Exception {
+                    return PlayFabGroupsAPI.privateRemoveGroupApplicationAsync(PlayFabGroupsInstanceAPI.this, request);
+                }
+            });
+        }
+
+        /**
+         * Removes an invitation join a group
+         * @param request RemoveGroupInvitationRequest
+         * @return Running future that will complete with EmptyResponse
+         */
+        public PlayFabFuture<PlayFabResult<EmptyResponse>> RemoveGroupInvitation(final RemoveGroupInvitationRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<EmptyResponse>>() {
+                public PlayFabResult<EmptyResponse> call() throws Exception {
+                    return PlayFabGroupsAPI.privateRemoveGroupInvitationAsync(PlayFabGroupsInstanceAPI.this, request);
+                }
+            });
+        }
+
+        /**
+         * Removes members from a group.
+         * @param request RemoveMembersRequest
+         * @return Running future that will complete with EmptyResponse
+         */
+        public PlayFabFuture<PlayFabResult<EmptyResponse>> RemoveMembers(final RemoveMembersRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<EmptyResponse>>() {
+                public PlayFabResult<EmptyResponse> call() throws Exception {
+                    return PlayFabGroupsAPI.privateRemoveMembersAsync(PlayFabGroupsInstanceAPI.this, request);
+                }
+            });
+        }
+
+        /**
+         * Unblocks a list of entities from joining a group
+         * @param request UnblockEntityRequest
+         * @return Running future that will complete with EmptyResponse
+         */
+        public PlayFabFuture<PlayFabResult<EmptyResponse>> UnblockEntity(final UnblockEntityRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<EmptyResponse>>() {
+                public PlayFabResult<EmptyResponse> call() throws Exception {
+                    return PlayFabGroupsAPI.privateUnblockEntityAsync(PlayFabGroupsInstanceAPI.this, request);
+                }
+            });
+        }
+
+        /**
+         * Updates non-membership data about a group.
+         * @param request UpdateGroupRequest
+         * @return Running future that will complete with UpdateGroupResponse
+         */
+        public PlayFabFuture<PlayFabResult<UpdateGroupResponse>> UpdateGroup(final UpdateGroupRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<UpdateGroupResponse>>() {
+                public PlayFabResult<UpdateGroupResponse> call() throws Exception {
+                    return PlayFabGroupsAPI.privateUpdateGroupAsync(PlayFabGroupsInstanceAPI.this, request);
+                }
+            });
+        }
+
+        /**
+         * Updates metadata about a role.
+         * @param request UpdateGroupRoleRequest
+         * @return Running future that will complete with UpdateGroupRoleResponse
+         */
+        public PlayFabFuture<PlayFabResult<UpdateGroupRoleResponse>> UpdateRole(final UpdateGroupRoleRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<UpdateGroupRoleResponse>>() {
+                public PlayFabResult<UpdateGroupRoleResponse> call() throws Exception {
+                    return PlayFabGroupsAPI.privateUpdateRoleAsync(PlayFabGroupsInstanceAPI.this, request);
+                }
+            });
+        }
+    }
+}
@@ -6,12 +6,10 @@ import com.playfab.PlayFabErrors.*;
 import com.playfab.PlayFabSettings;
 import java.util.concurrent.*;
 import java.util.*;
-import com.google.gson.*;
-import com.google.gson.reflect.*;
 
     /** Manage the Insights performance level and data storage retention settings. */
 public class PlayFabInsightsAPI {
-    private static Gson gson = new GsonBuilder().setDateFormat("yyyy-MM-dd'T'HH:mm:ss.SSS'Z'").create();
+    private static final Async async = new Async();
 
     /**
      * Gets the current values for the Insights performance and data storage retention, list of pending operations, and the
@@ -23,7 +21,7 @@ public class PlayFabInsightsAPI {
     public static FutureTask<PlayFabResult<InsightsGetDetailsResponse>> GetDetailsAsync(final InsightsEmptyRequest request) {
         return new FutureTask(new Callable<PlayFabResult<InsightsGetDetailsResponse>>() {
             public PlayFabResult<InsightsGetDetailsResponse> call() throws Exception {
-                return privateGetDetailsAsync(request);
+                return privateGetDetailsAsync(null, request);
             }
         });
     }
@@ -38,7 +36,7 @@ public class PlayFabInsightsAPI {
     public static PlayFabResult<InsightsGetDetailsResponse> GetDetails(final InsightsEmptyRequest request) {
         FutureTask<PlayFabResult<InsightsGetDetailsResponse>> task = new FutureTask(new Callable<PlayFabResult<InsightsGetDetailsResponse>>() {
             public PlayFabResult<InsightsGetDetailsResponse> call() throws Exception {
-                return privateGetDetailsAsync(request);
+                return privateGetDetailsAsync(null, request);
             }
         });
         try {
@@ -56,10 +54,12 @@ public class PlayFabInsightsAPI {
      * performance and data storage retention limits.
      */
     @SuppressWarnings("unchecked")
-    private static PlayFabResult<InsightsGetDetailsResponse> privateGetDetailsAsync(final InsightsEmptyRequest request) throws Exception {
-        if (PlayFabSettings.EntityToken == null) throw new Exception ("Must call GetEntityToken before you can use the Entity API");
+    static PlayFabResult<InsightsGetDetailsResponse> privateGetDetailsAsync(final PlayFabInstanceAPI instance, final InsightsEmptyRequest request) throws Exception {
+        final PlayFabApiContext context = PlayFabInstanceAPI.contextOf(instance);
+        final String entityToken = context.getEntityToken();
+        if (entityToken == null) throw new Exception ("Must call GetEntityToken before you can use the Entity API");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Insights/GetDetails"), request, "X-EntityToken", PlayFabSettings.EntityToken);
+        FutureTask<Object> task = PlayFabHTTP.doPost(context.getURL("/Insights/GetDetails"), request, "X-EntityToken", entityToken, InsightsGetDetailsResponse.class);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -70,9 +70,7 @@ public class PlayFabInsightsAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
-
-        PlayFabJsonSuccess<InsightsGetDetailsResponse> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<InsightsGetDetailsResponse>>(){}.getType());
+        PlayFabJsonSuccess<InsightsGetDetailsResponse> resultData = (PlayFabJsonSuccess<InsightsGetDetailsResponse>) httpResult;
         InsightsGetDetailsResponse result = resultData.data;
 
         PlayFabResult<InsightsGetDetailsResponse> pfResult = new PlayFabResult<InsightsGetDetailsResponse>();
@@ -90,7 +88,7 @@ public class PlayFabInsightsAPI {
     public static FutureTask<PlayFabResult<InsightsGetLimitsResponse>> GetLimitsAsync(final InsightsEmptyRequest request) {
         return new FutureTask(new Callable<PlayFabResult<InsightsGetLimitsResponse>>() {
             public PlayFabResult<InsightsGetLimitsResponse> call() throws Exception {
-                return privateGetLimitsAsync(request);
+                return privateGetLimitsAsync(null, request);
             }
         });
     }
@@ -105,7 +103,7 @@ public class PlayFabInsightsAPI {
     public static PlayFabResult<InsightsGetLimitsResponse> GetLimits(final InsightsEmptyRequest request) {
         FutureTask<PlayFabResult<InsightsGetLimitsResponse>> task = new FutureTask(new Callable<PlayFabResult<InsightsGetLimitsResponse>>() {
             public PlayFabResult<InsightsGetLimitsResponse> call() throws Exception {
-                return privateGetLimitsAsync(request);
+                return privateGetLimitsAsync(null, request);
             }
         });
         try {
@@ -123,10 +121,12 @@ public class PlayFabInsightsAPI {
      * for each performance level.
      */
     @SuppressWarnings("unchecked")
-    private static PlayFabResult<InsightsGetLimitsResponse> privateGetLimitsAsync(final InsightsEmptyRequest request) throws Exception {
-        if (PlayFabSettings.EntityToken == null) throw new Exception ("Must call GetEntityToken before you can use the Entity API");
+    static PlayFabResult<InsightsGetLimitsResponse> privateGetLimitsAsync(final PlayFabInstanceAPI instance, final InsightsEmptyRequest request) throws Exception {
+        final PlayFabApiContext context = PlayFabInstanceAPI.contextOf(instance);
+        final String entityToken = context.getEntityToken();
+        if (entityToken == null) throw new Exception ("Must call GetEntityToken before you can use the Entity API");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Insights/GetLimits"), request, "X-EntityToken", PlayFabSettings.EntityToken);
+        FutureTask<Object> task = PlayFabHTTP.doPost(context.getURL("/Insights/GetLimits"), request, "X-EntityToken", entityToken, InsightsGetLimitsResponse.class);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -137,9 +137,7 @@ public class PlayFabInsightsAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
-
-        PlayFabJsonSuccess<InsightsGetLimitsResponse> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<InsightsGetLimitsResponse>>(){}.getType());
+        PlayFabJsonSuccess<InsightsGetLimitsResponse> resultData = (PlayFabJsonSuccess<InsightsGetLimitsResponse>) httpResult;
         InsightsGetLimitsResponse result = resultData.data;
 
         PlayFabResult<InsightsGetLimitsResponse> pfResult = new PlayFabResult<InsightsGetLimitsResponse>();
@@ -156,7 +154,7 @@ public class PlayFabInsightsAPI {
     public static FutureTask<PlayFabResult<InsightsGetOperationStatusResponse>> GetOperationStatusAsync(final InsightsGetOperationStatusRequest request) {
         return new FutureTask(new Callable<PlayFabResult<InsightsGetOperationStatusResponse>>() {
             public PlayFabResult<InsightsGetOperationStatusResponse> call() throws Exception {
-                return privateGetOperationStatusAsync(request);
+                return privateGetOperationStatusAsync(null, request);
             }
         });
     }
@@ -170,7 +168,7 @@ public class PlayFabInsightsAPI {
     public static PlayFabResult<InsightsGetOperationStatusResponse> GetOperationStatus(final InsightsGetOperationStatusRequest request) {
         FutureTask<PlayFabResult<InsightsGetOperationStatusResponse>> task = new FutureTask(new Callable<PlayFabResult<InsightsGetOperationStatusResponse>>() {
             public PlayFabResult<InsightsGetOperationStatusResponse> call() throws Exception {
-                return privateGetOperationStatusAsync(request);
+                return privateGetOperationStatusAsync(null, request);
             }
         });
         try {
@@ -185,10 +183,12 @@ public class PlayFabInsightsAPI {
 
     /** Gets the status of a SetPerformance or SetStorageRetention operation. */
     @SuppressWarnings("unchecked")
-    private static PlayFabResult<InsightsGetOperationStatusResponse> privateGetOperationStatusAsync(final InsightsGetOperationStatusRequest request) throws Exception {
-        if (PlayFabSettings.EntityToken == null) throw new Exception ("Must call GetEntityToken before you can use the Entity API");
+    static PlayFabResult<InsightsGetOperationStatusResponse> privateGetOperationStatusAsync(final PlayFabInstanceAPI instance, final InsightsGetOperationStatusRequest request) throws Exception {
+        final PlayFabApiContext context = PlayFabInstanceAPI.contextOf(instance);
+        final String entityToken = context.getEntityToken();
+        if (entityToken == null) throw new Exception ("Must call GetEntityToken before you can use the Entity API");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Insights/GetOperationStatus"), request, "X-EntityToken", PlayFabSettings.EntityToken);
+        FutureTask<Object> task = PlayFabHTTP.doPost(context.getURL("/Insights/GetOperationStatus"), request, "X-EntityToken", entityToken, InsightsGetOperationStatusResponse.class);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -199,9 +199,7 @@ public class PlayFabInsightsAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
-
-        PlayFabJsonSuccess<InsightsGetOperationStatusResponse> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<InsightsGetOperationStatusResponse>>(){}.getType());
+        PlayFabJsonSuccess<InsightsGetOperationStatusResponse> resultData = (PlayFabJsonSuccess<InsightsGetOperationStatusResponse>) httpResult;
         InsightsGetOperationStatusResponse result = resultData.data;
 
         PlayFabResult<InsightsGetOperationStatusResponse> pfResult = new PlayFabResult<InsightsGetOperationStatusResponse>();
@@ -218,7 +216,7 @@ public class PlayFabInsightsAPI {
     public static FutureTask<PlayFabResult<InsightsGetPendingOperationsResponse>> GetPendingOperationsAsync(final InsightsGetPendingOperationsRequest request) {
         return new FutureTask(new Callable<PlayFabResult<InsightsGetPendingOperationsResponse>>() {
             public PlayFabResult<InsightsGetPendingOperationsResponse> call() throws Exception {
-                return privateGetPendingOperationsAsync(request);
+                return privateGetPendingOperationsAsync(null, request);
             }
         });
     }
@@ -232,7 +230,7 @@ public class PlayFabInsightsAPI {
     public static PlayFabResult<InsightsGetPendingOperationsResponse> GetPendingOperations(final InsightsGetPendingOperationsRequest request) {
         FutureTask<PlayFabResult<InsightsGetPendingOperationsResponse>> task = new FutureTask(new Callable<PlayFabResult<InsightsGetPendingOperationsResponse>>() {
             public PlayFabResult<InsightsGetPendingOperationsResponse> call() throws Exception {
-                return privateGetPendingOperationsAsync(request);
+                return privateGetPendingOperationsAsync(null, request);
             }
         });
         try {
@@ -247,10 +245,12 @@ public class PlayFabInsightsAPI {
 
     /** Gets a list of pending SetPerformance and/or SetStorageRetention operations for the title. */
     @SuppressWarnings("unchecked")
-    private static PlayFabResult<InsightsGetPendingOperationsResponse> privateGetPendingOperationsAsync(final InsightsGetPendingOperationsRequest request) throws Exception {
-        if (PlayFabSettings.EntityToken == null) throw new Exception ("Must call GetEntityToken before you can use the Entity API");
+    static PlayFabResult<InsightsGetPendingOperationsResponse> privateGetPendingOperationsAsync(final PlayFabInstanceAPI instance, final InsightsGetPendingOperationsRequest request) throws Exception {
+        final PlayFabApiContext context = PlayFabInstanceAPI.contextOf(instance);
+        final String entityToken = context.getEntityToken();
+        if (entityToken == null) throw new Exception ("Must call GetEntityToken before you can use the Entity API");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Insights/GetPendingOperations"), request, "X-EntityToken", PlayFabSettings.EntityToken);
+        FutureTask<Object> task = PlayFabHTTP.doPost(context.getURL("/Insights/GetPendingOperations"), request, "X-EntityToken", entityToken, InsightsGetPendingOperationsResponse.class);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -261,9 +261,7 @@ public class PlayFabInsightsAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
-
-        PlayFabJsonSuccess<InsightsGetPendingOperationsResponse> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<InsightsGetPendingOperationsResponse>>(){}.getType());
+        PlayFabJsonSuccess<InsightsGetPendingOperationsResponse> resultData = (PlayFabJsonSuccess<InsightsGetPendingOperationsResponse>) httpResult;
         InsightsGetPendingOperationsResponse result = resultData.data;
 
         PlayFabResult<InsightsGetPendingOperationsResponse> pfResult = new PlayFabResult<InsightsGetPendingOperationsResponse>();
@@ -280,7 +278,7 @@ public class PlayFabInsightsAPI {
     public static FutureTask<PlayFabResult<InsightsOperationResponse>> SetPerformanceAsync(final InsightsSetPerformanceRequest request) {
         return new FutureTask(new Callable<PlayFabResult<InsightsOperationResponse>>() {
             public PlayFabResult<InsightsOperationResponse> call() throws Exception {
-                return privateSetPerformanceAsync(request);
+                return privateSetPerformanceAsync(null, request);
             }
         });
     }
@@ -294,7 +292,7 @@ public class PlayFabInsightsAPI {
     public static PlayFabResult<InsightsOperationResponse> SetPerformance(final InsightsSetPerformanceRequest request) {
         FutureTask<PlayFabResult<InsightsOperationResponse>> task = new FutureTask(new Callable<PlayFabResult<InsightsOperationResponse>>() {
             public PlayFabResult<InsightsOperationResponse> call() throws Exception {
-                return privateSetPerformanceAsync(request);
+                return privateSetPerformanceAsync(null, request);
             }
         });
         try {
@@ -309,10 +307,12 @@ public class PlayFabInsightsAPI {
 
     /** Sets the Insights performance level value for the title. */
     @SuppressWarnings("unchecked")
-    private static PlayFabResult<InsightsOperationResponse> privateSetPerformanceAsync(final InsightsSetPerformanceRequest request) throws Exception {
-        if (PlayFabSettings.EntityToken == null) throw new Exception ("Must call GetEntityToken before you can use the Entity API");
+    static PlayFabResult<InsightsOperationResponse> privateSetPerformanceAsync(final PlayFabInstanceAPI instance, final InsightsSetPerformanceRequest request) throws Exception {
+        final PlayFabApiContext context = PlayFabInstanceAPI.contextOf(instance);
+        final String entityToken = context.getEntityToken();
+        if (entityToken == null) throw new Exception ("Must call GetEntityToken before you can use the Entity API");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Insights/SetPerformance"), request, "X-EntityToken", PlayFabSettings.EntityToken);
+        FutureTask<Object> task = PlayFabHTTP.doPost(context.getURL("/Insights/SetPerformance"), request, "X-EntityToken", entityToken, InsightsOperationResponse.class);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -323,9 +323,7 @@ public class PlayFabInsightsAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
-
-        PlayFabJsonSuccess<InsightsOperationResponse> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<InsightsOperationResponse>>(){}.getType());
+        PlayFabJsonSuccess<InsightsOperationResponse> resultData = (PlayFabJsonSuccess<InsightsOperationResponse>) httpResult;
         InsightsOperationResponse result = resultData.data;
 
         PlayFabResult<InsightsOperationResponse> pfResult = new PlayFabResult<InsightsOperationResponse>();
@@ -342,7 +340,7 @@ public class PlayFabInsightsAPI {
     public static FutureTask<PlayFabResult<InsightsOperationResponse>> SetStorageRetentionAsync(final InsightsSetStorageRetentionRequest request) {
         return new FutureTask(new Callable<PlayFabResult<InsightsOperationResponse>>() {
             public PlayFabResult<InsightsOperationResponse> call() throws Exception {
-                return privateSetStorageRetentionAsync(request);
+                return privateSetStorageRetentionAsync(null, request);
             }
         });
     }
@@ -356,7 +354,7 @@ public class PlayFabInsightsAPI {
     public static PlayFabResult<InsightsOperationResponse> SetStorageRetention(final InsightsSetStorageRetentionRequest request) {
         FutureTask<PlayFabResult<InsightsOperationResponse>> task = new FutureTask(new Callable<PlayFabResult<InsightsOperationResponse>>() {
             public PlayFabResult<InsightsOperationResponse> call() throws Exception {
-                return privateSetStorageRetentionAsync(request);
+                return privateSetStorageRetentionAsync(null, request);
             }
         });
         try {
@@ -371,10 +369,12 @@ public class PlayFabInsightsAPI {
 
     /** Sets the Insights data storage retention days value for the title. */
     @SuppressWarnings("unchecked")
-    private static PlayFabResult<InsightsOperationResponse> privateSetStorageRetentionAsync(final InsightsSetStorageRetentionRequest request) throws Exception {
-        if (PlayFabSettings.EntityToken == null) throw new Exception ("Must call GetEntityToken before you can use the Entity API");
+    static PlayFabResult<InsightsOperationResponse> privateSetStorageRetentionAsync(final PlayFabInstanceAPI instance, final InsightsSetStorageRetentionRequest request) throws Exception {
+        final PlayFabApiContext context = PlayFabInstanceAPI.contextOf(instance);
+        final String entityToken = context.getEntityToken();
+        if (entityToken == null) throw new Exception ("Must call GetEntityToken before you can use the Entity API");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Insights/SetStorageRetention"), request, "X-EntityToken", PlayFabSettings.EntityToken);
+        FutureTask<Object> task = PlayFabHTTP.doPost(context.getURL("/Insights/SetStorageRetention"), request, "X-EntityToken", entityToken, InsightsOperationResponse.class);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -385,9 +385,7 @@ public class PlayFabInsightsAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
-
-        PlayFabJsonSuccess<InsightsOperationResponse> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<InsightsOperationResponse>>(){}.getType());
+        PlayFabJsonSuccess<InsightsOperationResponse> resultData = (PlayFabJsonSuccess<InsightsOperationResponse>) httpResult;
         InsightsOperationResponse result = resultData.data;
 
         PlayFabResult<InsightsOperationResponse> pfResult = new PlayFabResult<InsightsOperationResponse>();
@@ -395,4 +393,98 @@ public class PlayFabInsightsAPI {
         return pfResult;
     }
 
+    /**
+     * @return Non-blocking versions of every PlayFabInsightsAPI call, started on PlayFabSettings.AsyncExecutor
+     */
+    public static Async async() {
+        return async;
+    }
+
+    /**
+     * Non-blocking versions of the PlayFabInsightsAPI calls. Each call is already running when its PlayFabFuture is returned.
+     */
+    public static class Async {
+        private Async() {
+        }
+
+        /**
+         * Gets the current values for the Insights performance and data storage retention, list of pending operations, and the
+         * performance and data storage retention limits.
+         * @param request InsightsEmptyRequest
+         * @return Running future that will complete with InsightsGetDetailsResponse
+         */
+        public PlayFabFuture<PlayFabResult<InsightsGetDetailsResponse>> GetDetails(final InsightsEmptyRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<InsightsGetDetailsResponse>>() {
+                public PlayFabResult<InsightsGetDetailsResponse> call() throws Exception {
+                    return privateGetDetailsAsync(null, request);
+                }
+            });
+        }
+
+        /**
+         * Retrieves the range of allowed values for performance and data storage retention values as well as the submeter details
+         * for each performance level.
+         * @param request InsightsEmptyRequest
+         * @return Running future that will complete with InsightsGetLimitsResponse
+         */
+        public PlayFabFuture<PlayFabResult<InsightsGetLimitsResponse>> GetLimits(final InsightsEmptyRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<InsightsGetLimitsResponse>>() {
+                public PlayFabResult<InsightsGetLimitsResponse> call() throws Exception {
+                    return privateGetLimitsAsync(null, request);
+                }
+            });
+        }
+
+        /**
+         * Gets the status of a SetPerformance or SetStorageRetention operation.
+         * @param request InsightsGetOperationStatusRequest
+         * @return Running future that will complete with InsightsGetOperationStatusResponse
+         */
+        public PlayFabFuture<PlayFabResult<InsightsGetOperationStatusResponse>> GetOperationStatus(final InsightsGetOperationStatusRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<InsightsGetOperationStatusResponse>>() {
+                public PlayFabResult<InsightsGetOperationStatusResponse> call() throws Exception {
+                    return privateGetOperationStatusAsync(null, request);
+                }
+            });
+        }
+
+        /**
+         * Gets a list of pending SetPerformance and/or SetStorageRetention operations for the title.
+         * @param request InsightsGetPendingOperationsRequest
+         * @return Running future that will complete with InsightsGetPendingOperationsResponse
+         */
+        public PlayFabFuture<PlayFabResult<InsightsGetPendingOperationsResponse>> GetPendingOperations(final InsightsGetPendingOperationsRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<InsightsGetPendingOperationsResponse>>() {
+                public PlayFabResult<InsightsGetPendingOperationsResponse> call() throws Exception {
+                    return privateGetPendingOperationsAsync(null, request);
+                }
+            });
+        }
+
+        /**
+         * Sets the Insights performance level value for the title.
+         * @param request InsightsSetPerformanceRequest
+         * @return Running future that will complete with InsightsOperationResponse
+         */
+        public PlayFabFuture<PlayFabResult<InsightsOperationResponse>> SetPerformance(final InsightsSetPerformanceRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<InsightsOperationResponse>>() {
+                public PlayFabResult<InsightsOperationResponse> call() throws Exception {
+                    return privateSetPerformanceAsync(null, request);
+                }
+            });
+        }
+
+        /**
+         * Sets the Insights data storage retention days value for the title.
+         * @param request InsightsSetStorageRetentionRequest
+         * @return Running future that will complete with InsightsOperationResponse
+         */
+        public PlayFabFuture<PlayFabResult<InsightsOperationResponse>> SetStorageRetention(final InsightsSetStorageRetentionRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<InsightsOperationResponse>>() {
+                public PlayFabResult<InsightsOperationResponse> call() throws Exception {
+                    return privateSetStorageRetentionAsync(null, request);
+                }
+            });
+        }
+    }
 }
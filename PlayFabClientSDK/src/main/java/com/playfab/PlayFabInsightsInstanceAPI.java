@@ -0,0 +1,207 @@
+package com.playfab;
+
+import com.playfab.internal.*;
+import com.playfab.PlayFabInsightsModels.*;
+import com.playfab.PlayFabErrors.*;
+import com.playfab.PlayFabSettings;
+import java.util.concurrent.*;
+import java.util.*;
+
+    /**
+     * The calls of PlayFabInsightsAPI, made with a PlayFabApiContext of this object's own instead of PlayFabSettings. Login
+     * and GetEntityToken calls keep the credentials they return in that context
+     */
+public class PlayFabInsightsInstanceAPI extends PlayFabInstanceAPI {
+    private final Async async = new Async();
+
+    public PlayFabInsightsInstanceAPI(PlayFabApiContext context) {
+        super(context);
+    }
+
+    /**
+     * Gets the current values for the Insights performance and data storage retention, list of pending operations, and the
+     * performance and data storage retention limits.
+     * @param request InsightsEmptyRequest
+     * @return InsightsGetDetailsResponse
+     */
+    public PlayFabResult<InsightsGetDetailsResponse> GetDetails(final InsightsEmptyRequest request) {
+        try {
+            return PlayFabInsightsAPI.privateGetDetailsAsync(this, request);
+        } catch(Exception e) {
+            PlayFabResult<InsightsGetDetailsResponse> exceptionResult = new PlayFabResult<InsightsGetDetailsResponse>();
+            exceptionResult.Error = PlayFabHTTP.GeneratePfError(-1, PlayFabErrorCode.Unknown, e.getMessage(), null, null);
+            return exceptionResult;
+        }
+    }
+
+    /**
+     * Retrieves the range of allowed values for performance and data storage retention values as well as the submeter details
+     * for each performance level.
+     * @param request InsightsEmptyRequest
+     * @return InsightsGetLimitsResponse
+     */
+    public PlayFabResult<InsightsGetLimitsResponse> GetLimits(final InsightsEmptyRequest request) {
+        try {
+            return PlayFabInsightsAPI.privateGetLimitsAsync(this, request);
+        } catch(Exception e) {
+            PlayFabResult<InsightsGetLimitsResponse> exceptionResult = new PlayFabResult<InsightsGetLimitsResponse>();
+            exceptionResult.Error = PlayFabHTTP.GeneratePfError(-1, PlayFabErrorCode.Unknown, e.getMessage(), null, null);
+            return exceptionResult;
+        }
+    }
+
+    /**
+     * Gets the status of a SetPerformance or SetStorageRetention operation.
+     * @param request InsightsGetOperationStatusRequest
+     * @return InsightsGetOperationStatusResponse
+     */
+    public PlayFabResult<InsightsGetOperationStatusResponse> GetOperationStatus(final InsightsGetOperationStatusRequest request) {
+        try {
+            return PlayFabInsightsAPI.privateGetOperationStatusAsync(this, request);
+        } catch(Exception e) {
+            PlayFabResult<InsightsGetOperationStatusResponse> exceptionResult = new PlayFabResult<InsightsGetOperationStatusResponse>();
+            exceptionResult.Error = PlayFabHTTP.GeneratePfError(-1, PlayFabErrorCode.Unknown, e.getMessage(), null, null);
+            return exceptionResult;
+        }
+    }
+
+    /**
+     * Gets a list of pending SetPerformance and/or SetStorageRetention operations for the title.
+     * @param request InsightsGetPendingOperationsRequest
+     * @return InsightsGetPendingOperationsResponse
+     */
+    public PlayFabResult<InsightsGetPendingOperationsResponse> GetPendingOperations(final InsightsGetPendingOperationsRequest request) {
+        try {
+            return PlayFabInsightsAPI.privateGetPendingOperationsAsync(this, request);
+        } catch(Exception e) {
+            PlayFabResult<InsightsGetPendingOperationsResponse> exceptionResult = new PlayFabResult<InsightsGetPendingOperationsResponse>();
+            exceptionResult.Error = PlayFabHTTP.GeneratePfError(-1, PlayFabErrorCode.Unknown, e.getMessage(), null, null);
+            return exceptionResult;
+        }
+    }
+
+    /**
+     * Sets the Insights performance level value for the title.
+     * @param request InsightsSetPerformanceRequest
+     * @return InsightsOperationResponse
+     */
+    public PlayFabResult<InsightsOperationResponse> SetPerformance(final InsightsSetPerformanceRequest request) {
+        try {
+            return PlayFabInsightsAPI.privateSetPerformanceAsync(this, request);
+        } catch(Exception e) {
+            PlayFabResult<InsightsOperationResponse> exceptionResult = new PlayFabResult<InsightsOperationResponse>();
+            exceptionResult.Error = PlayFabHTTP.GeneratePfError(-1, PlayFabErrorCode.Unknown, e.getMessage(), null, null);
+            return exceptionResult;
+        }
+    }
+
+    /**
+     * Sets the Insights data storage retention days value for the title.
+     * @param request InsightsSetStorageRetentionRequest
+     * @return InsightsOperationResponse
+     */
+    public PlayFabResult<InsightsOperationResponse> SetStorageRetention(final InsightsSetStorageRetentionRequest request) {
+        try {
+            return PlayFabInsightsAPI.privateSetStorageRetentionAsync(this, request);
+        } catch(Exception e) {
+            PlayFabResult<InsightsOperationResponse> exceptionResult = new PlayFabResult<InsightsOperationResponse>();
+            exceptionResult.Error = PlayFabHTTP.GeneratePfError(-1, PlayFabErrorCode.Unknown, e.getMessage(), null, null);
+            return exceptionResult;
+        }
+    }
+
+    /**
+     * @return Non-blocking versions of every call, made with this object's context and started on PlayFabSettings.AsyncExecutor
+     */
+    public Async async() {
+        return async;
+    }
+
+    /**
+     * Non-blocking versions of the PlayFabInsightsInstanceAPI calls. Each call is already running when its PlayFabFuture is returned.
+     */
+    public class Async {
+        private Async() {
+        }
+
+        /**
+         * Gets the current values for the Insights performance and data storage retention, list of pending operations, and the
+         * performance and data storage retention limits.
+         * @param request InsightsEmptyRequest
+         * @return Running future that will complete with InsightsGetDetailsResponse
+         */
+        public PlayFabFuture<PlayFabResult<InsightsGetDetailsResponse>> GetDetails(final InsightsEmptyRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<InsightsGetDetailsResponse>>() {
+                public PlayFabResult<InsightsGetDetailsResponse> call() throws Exception {
+                    return PlayFabInsightsAPI.privateGetDetailsAsync(PlayFabInsightsInstanceAPI.this, request);
+                }
+            });
+        }
+
+        /**
+         * Retrieves the range of allowed values for performance and data storage retention values as well as the submeter details
+         * for each performance level.
+         * @param request InsightsEmptyRequest
+         * @return Running future that will complete with InsightsGetLimitsResponse
+         */
+        public PlayFabFuture<PlayFabResult<InsightsGetLimitsResponse>> GetLimits(final InsightsEmptyRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<InsightsGetLimitsResponse>>() {
+                public PlayFabResult<InsightsGetLimitsResponse> call() throws Exception {
+                    return PlayFabInsightsAPI.privateGetLimitsAsync(PlayFabInsightsInstanceAPI.this, request);
+                }
+            });
+        }
+
+        /**
+         * Gets the status of a SetPerformance or SetStorageRetention operation.
+         * @param request InsightsGetOperationStatusRequest
+         * @return Running future that will complete with InsightsGetOperationStatusResponse
+         */
+        public PlayFabFuture<PlayFabResult<InsightsGetOperationStatusResponse>> GetOperationStatus(final InsightsGetOperationStatusRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<InsightsGetOperationStatusResponse>>() {
+                public PlayFabResult<InsightsGetOperationStatusResponse> call() throws Exception {
+                    return PlayFabInsightsAPI.privateGetOperationStatusAsync(PlayFabInsightsInstanceAPI.this, request);
+                }
+            });
+        }
+
+        /**
+         * Gets a list of pending SetPerformance and/or SetStorageRetention operations for the title.
+         * @param request InsightsGetPendingOperationsRequest
+         * @return Running future that will complete with InsightsGetPendingOperationsResponse
+         */
+        public PlayFabFuture<PlayFabResult<InsightsGetPendingOperationsResponse>> GetPendingOperations(final InsightsGetPendingOperationsRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<InsightsGetPendingOperationsResponse>>() {
+                public PlayFabResult<InsightsGetPendingOperationsResponse> call() throws Exception {
+                    return PlayFabInsightsAPI.privateGetPendingOperationsAsync(PlayFabInsightsInstanceAPI.this, request);
+                }
+            });
+        }
+
+        /**
+         * Sets the Insights performance level value for the title.
+         * @param request InsightsSetPerformanceRequest
+         * @return Running future that will complete with InsightsOperationResponse
+         */
+        public PlayFabFuture<PlayFabResult<InsightsOperationResponse>> SetPerformance(final InsightsSetPerformanceRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<InsightsOperationResponse>>() {
+                public PlayFabResult<InsightsOperationResponse> call() throws Exception {
+                    return PlayFabInsightsAPI.privateSetPerformanceAsync(PlayFabInsightsInstanceAPI.this, request);
+                }
+            });
+        }
+
+        /**
+         * Sets the Insights data storage retention days value for the title.
+         * @param request InsightsSetStorageRetentionRequest
+         * @return Running future that will complete with InsightsOperationResponse
+         */
+        public PlayFabFuture<PlayFabResult<InsightsOperationResponse>> SetStorageRetention(final InsightsSetStorageRetentionRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<InsightsOperationResponse>>() {
+                public PlayFabResult<InsightsOperationResponse> call() throws Exception {
+                    return PlayFabInsightsAPI.privateSetStorageRetentionAsync(PlayFabInsightsInstanceAPI.this, request);
+                }
+            });
+        }
+    }
+}
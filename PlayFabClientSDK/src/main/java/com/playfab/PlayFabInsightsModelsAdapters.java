@@ -0,0 +1,549 @@
+package com.playfab;
+
+import java.io.IOException;
+import java.util.Date;
+import com.google.gson.*;
+import com.google.gson.reflect.TypeToken;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
+import com.playfab.PlayFabInsightsModels.*;
+import com.playfab.internal.PlayFabJson;
+
+/**
+ * Streaming TypeAdapters for every class in PlayFabInsightsModels, so models are read and written without field reflection.
+ * PlayFabJson finds FACTORY through this class name. Enums keep Gson's own adapters, which do no per-call reflection.
+ * Generated from PlayFabInsightsModels by PlayFabModelAdaptersGenerator, in the PlayFabSDK tests: regenerate rather than edit.
+ */
+public class PlayFabInsightsModelsAdapters {
+    public static final TypeAdapterFactory FACTORY = new TypeAdapterFactory() {
+        @SuppressWarnings("unchecked")
+        public <T> TypeAdapter<T> create(Gson gson, TypeToken<T> type) {
+            Class<?> raw = type.getRawType();
+            if (raw.getDeclaringClass() != PlayFabInsightsModels.class)
+                return null;
+            switch (raw.getSimpleName()) {
+                case "InsightsEmptyRequest": return (TypeAdapter<T>) new InsightsEmptyRequestAdapter(gson);
+                case "InsightsGetDetailsResponse": return (TypeAdapter<T>) new InsightsGetDetailsResponseAdapter(gson);
+                case "InsightsGetLimitsResponse": return (TypeAdapter<T>) new InsightsGetLimitsResponseAdapter(gson);
+                case "InsightsGetOperationStatusRequest": return (TypeAdapter<T>) new InsightsGetOperationStatusRequestAdapter(gson);
+                case "InsightsGetOperationStatusResponse": return (TypeAdapter<T>) new InsightsGetOperationStatusResponseAdapter(gson);
+                case "InsightsGetPendingOperationsRequest": return (TypeAdapter<T>) new InsightsGetPendingOperationsRequestAdapter(gson);
+                case "InsightsGetPendingOperationsResponse": return (TypeAdapter<T>) new InsightsGetPendingOperationsResponseAdapter(gson);
+                case "InsightsOperationResponse": return (TypeAdapter<T>) new InsightsOperationResponseAdapter(gson);
+                case "InsightsPerformanceLevel": return (TypeAdapter<T>) new InsightsPerformanceLevelAdapter(gson);
+                case "InsightsSetPerformanceRequest": return (TypeAdapter<T>) new InsightsSetPerformanceRequestAdapter(gson);
+                case "InsightsSetStorageRetentionRequest": return (TypeAdapter<T>) new InsightsSetStorageRetentionRequestAdapter(gson);
+                default: return null;
+            }
+        }
+    };
+
+    private static class InsightsEmptyRequestAdapter extends TypeAdapter<InsightsEmptyRequest> {
+        private final TypeAdapter<String> stringAdapter;
+
+        private InsightsEmptyRequestAdapter(Gson gson) {
+            stringAdapter = gson.getAdapter(String.class);
+        }
+
+        @Override
+        public void write(JsonWriter out, InsightsEmptyRequest value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            PlayFabJson.writeMap(out.name("CustomTags"), value.CustomTags, stringAdapter);
+            out.endObject();
+        }
+
+        @Override
+        public InsightsEmptyRequest read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            InsightsEmptyRequest value = new InsightsEmptyRequest();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "CustomTags": value.CustomTags = PlayFabJson.readMap(in, stringAdapter); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class InsightsGetDetailsResponseAdapter extends TypeAdapter<InsightsGetDetailsResponse> {
+        private final TypeAdapter<InsightsGetLimitsResponse> insightsGetLimitsResponseAdapter;
+        private final TypeAdapter<InsightsGetOperationStatusResponse> insightsGetOperationStatusResponseAdapter;
+
+        private InsightsGetDetailsResponseAdapter(Gson gson) {
+            insightsGetLimitsResponseAdapter = gson.getAdapter(InsightsGetLimitsResponse.class);
+            insightsGetOperationStatusResponseAdapter = gson.getAdapter(InsightsGetOperationStatusResponse.class);
+        }
+
+        @Override
+        public void write(JsonWriter out, InsightsGetDetailsResponse value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.name("DataUsageMb").value(value.DataUsageMb);
+            out.name("ErrorMessage").value(value.ErrorMessage);
+            insightsGetLimitsResponseAdapter.write(out.name("Limits"), value.Limits);
+            PlayFabJson.writeList(out.name("PendingOperations"), value.PendingOperations, insightsGetOperationStatusResponseAdapter);
+            out.name("PerformanceLevel").value(value.PerformanceLevel);
+            out.name("RetentionDays").value(value.RetentionDays);
+            out.endObject();
+        }
+
+        @Override
+        public InsightsGetDetailsResponse read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            InsightsGetDetailsResponse value = new InsightsGetDetailsResponse();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "DataUsageMb": value.DataUsageMb = PlayFabJson.readLong(in); break;
+                        case "ErrorMessage": value.ErrorMessage = PlayFabJson.readString(in); break;
+                        case "Limits": value.Limits = insightsGetLimitsResponseAdapter.read(in); break;
+                        case "PendingOperations": value.PendingOperations = PlayFabJson.readList(in, insightsGetOperationStatusResponseAdapter); break;
+                        case "PerformanceLevel": value.PerformanceLevel = PlayFabJson.readInteger(in); break;
+                        case "RetentionDays": value.RetentionDays = PlayFabJson.readInteger(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class InsightsGetLimitsResponseAdapter extends TypeAdapter<InsightsGetLimitsResponse> {
+        private final TypeAdapter<InsightsPerformanceLevel> insightsPerformanceLevelAdapter;
+
+        private InsightsGetLimitsResponseAdapter(Gson gson) {
+            insightsPerformanceLevelAdapter = gson.getAdapter(InsightsPerformanceLevel.class);
+        }
+
+        @Override
+        public void write(JsonWriter out, InsightsGetLimitsResponse value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.name("DefaultPerformanceLevel").value(value.DefaultPerformanceLevel);
+            out.name("DefaultStorageRetentionDays").value(value.DefaultStorageRetentionDays);
+            out.name("StorageMaxRetentionDays").value(value.StorageMaxRetentionDays);
+            out.name("StorageMinRetentionDays").value(value.StorageMinRetentionDays);
+            PlayFabJson.writeList(out.name("SubMeters"), value.SubMeters, insightsPerformanceLevelAdapter);
+            out.endObject();
+        }
+
+        @Override
+        public InsightsGetLimitsResponse read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            InsightsGetLimitsResponse value = new InsightsGetLimitsResponse();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "DefaultPerformanceLevel": value.DefaultPerformanceLevel = PlayFabJson.readInteger(in); break;
+                        case "DefaultStorageRetentionDays": value.DefaultStorageRetentionDays = PlayFabJson.readInteger(in); break;
+                        case "StorageMaxRetentionDays": value.StorageMaxRetentionDays = PlayFabJson.readInteger(in); break;
+                        case "StorageMinRetentionDays": value.StorageMinRetentionDays = PlayFabJson.readInteger(in); break;
+                        case "SubMeters": value.SubMeters = PlayFabJson.readList(in, insightsPerformanceLevelAdapter); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class InsightsGetOperationStatusRequestAdapter extends TypeAdapter<InsightsGetOperationStatusRequest> {
+        private final TypeAdapter<String> stringAdapter;
+
+        private InsightsGetOperationStatusRequestAdapter(Gson gson) {
+            stringAdapter = gson.getAdapter(String.class);
+        }
+
+        @Override
+        public void write(JsonWriter out, InsightsGetOperationStatusRequest value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            PlayFabJson.writeMap(out.name("CustomTags"), value.CustomTags, stringAdapter);
+            out.name("OperationId").value(value.OperationId);
+            out.endObject();
+        }
+
+        @Override
+        public InsightsGetOperationStatusRequest read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            InsightsGetOperationStatusRequest value = new InsightsGetOperationStatusRequest();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "CustomTags": value.CustomTags = PlayFabJson.readMap(in, stringAdapter); break;
+                        case "OperationId": value.OperationId = PlayFabJson.readString(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class InsightsGetOperationStatusResponseAdapter extends TypeAdapter<InsightsGetOperationStatusResponse> {
+        private final TypeAdapter<Date> dateAdapter;
+
+        private InsightsGetOperationStatusResponseAdapter(Gson gson) {
+            dateAdapter = gson.getAdapter(Date.class);
+        }
+
+        @Override
+        public void write(JsonWriter out, InsightsGetOperationStatusResponse value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.name("Message").value(value.Message);
+            dateAdapter.write(out.name("OperationCompletedTime"), value.OperationCompletedTime);
+            out.name("OperationId").value(value.OperationId);
+            dateAdapter.write(out.name("OperationLastUpdated"), value.OperationLastUpdated);
+            dateAdapter.write(out.name("OperationStartedTime"), value.OperationStartedTime);
+            out.name("OperationType").value(value.OperationType);
+            out.name("OperationValue").value(value.OperationValue);
+            out.name("Status").value(value.Status);
+            out.endObject();
+        }
+
+        @Override
+        public InsightsGetOperationStatusResponse read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            InsightsGetOperationStatusResponse value = new InsightsGetOperationStatusResponse();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "Message": value.Message = PlayFabJson.readString(in); break;
+                        case "OperationCompletedTime": value.OperationCompletedTime = dateAdapter.read(in); break;
+                        case "OperationId": value.OperationId = PlayFabJson.readString(in); break;
+                        case "OperationLastUpdated": value.OperationLastUpdated = dateAdapter.read(in); break;
+                        case "OperationStartedTime": value.OperationStartedTime = dateAdapter.read(in); break;
+                        case "OperationType": value.OperationType = PlayFabJson.readString(in); break;
+                        case "OperationValue": value.OperationValue = PlayFabJson.readInteger(in); break;
+                        case "Status": value.Status = PlayFabJson.readString(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class InsightsGetPendingOperationsRequestAdapter extends TypeAdapter<InsightsGetPendingOperationsRequest> {
+        private final TypeAdapter<String> stringAdapter;
+
+        private InsightsGetPendingOperationsRequestAdapter(Gson gson) {
+            stringAdapter = gson.getAdapter(String.class);
+        }
+
+        @Override
+        public void write(JsonWriter out, InsightsGetPendingOperationsRequest value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            PlayFabJson.writeMap(out.name("CustomTags"), value.CustomTags, stringAdapter);
+            out.name("OperationType").value(value.OperationType);
+            out.endObject();
+        }
+
+        @Override
+        public InsightsGetPendingOperationsRequest read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            InsightsGetPendingOperationsRequest value = new InsightsGetPendingOperationsRequest();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "CustomTags": value.CustomTags = PlayFabJson.readMap(in, stringAdapter); break;
+                        case "OperationType": value.OperationType = PlayFabJson.readString(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class InsightsGetPendingOperationsResponseAdapter extends TypeAdapter<InsightsGetPendingOperationsResponse> {
+        private final TypeAdapter<InsightsGetOperationStatusResponse> insightsGetOperationStatusResponseAdapter;
+
+        private InsightsGetPendingOperationsResponseAdapter(Gson gson) {
+            insightsGetOperationStatusResponseAdapter = gson.getAdapter(InsightsGetOperationStatusResponse.class);
+        }
+
+        @Override
+        public void write(JsonWriter out, InsightsGetPendingOperationsResponse value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            PlayFabJson.writeList(out.name("PendingOperations"), value.PendingOperations, insightsGetOperationStatusResponseAdapter);
+            out.endObject();
+        }
+
+        @Override
+        public InsightsGetPendingOperationsResponse read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            InsightsGetPendingOperationsResponse value = new InsightsGetPendingOperationsResponse();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "PendingOperations": value.PendingOperations = PlayFabJson.readList(in, insightsGetOperationStatusResponseAdapter); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class InsightsOperationResponseAdapter extends TypeAdapter<InsightsOperationResponse> {
+        private InsightsOperationResponseAdapter(Gson gson) {
+        }
+
+        @Override
+        public void write(JsonWriter out, InsightsOperationResponse value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.name("Message").value(value.Message);
+            out.name("OperationId").value(value.OperationId);
+            out.name("OperationType").value(value.OperationType);
+            out.endObject();
+        }
+
+        @Override
+        public InsightsOperationResponse read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            InsightsOperationResponse value = new InsightsOperationResponse();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "Message": value.Message = PlayFabJson.readString(in); break;
+                        case "OperationId": value.OperationId = PlayFabJson.readString(in); break;
+                        case "OperationType": value.OperationType = PlayFabJson.readString(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class InsightsPerformanceLevelAdapter extends TypeAdapter<InsightsPerformanceLevel> {
+        private final TypeAdapter<Double> doubleAdapter;
+
+        private InsightsPerformanceLevelAdapter(Gson gson) {
+            doubleAdapter = gson.getAdapter(Double.class);
+        }
+
+        @Override
+        public void write(JsonWriter out, InsightsPerformanceLevel value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.name("ActiveEventExports").value(value.ActiveEventExports);
+            out.name("CacheSizeMB").value(value.CacheSizeMB);
+            out.name("Concurrency").value(value.Concurrency);
+            doubleAdapter.write(out.name("CreditsPerMinute"), value.CreditsPerMinute);
+            out.name("EventsPerSecond").value(value.EventsPerSecond);
+            out.name("Level").value(value.Level);
+            out.name("MaxMemoryPerQueryMB").value(value.MaxMemoryPerQueryMB);
+            out.name("VirtualCpuCores").value(value.VirtualCpuCores);
+            out.endObject();
+        }
+
+        @Override
+        public InsightsPerformanceLevel read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            InsightsPerformanceLevel value = new InsightsPerformanceLevel();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "ActiveEventExports": value.ActiveEventExports = PlayFabJson.readInteger(in); break;
+                        case "CacheSizeMB": value.CacheSizeMB = PlayFabJson.readInteger(in); break;
+                        case "Concurrency": value.Concurrency = PlayFabJson.readInteger(in); break;
+                        case "CreditsPerMinute": value.CreditsPerMinute = doubleAdapter.read(in); break;
+                        case "EventsPerSecond": value.EventsPerSecond = PlayFabJson.readInteger(in); break;
+                        case "Level": value.Level = PlayFabJson.readInteger(in); break;
+                        case "MaxMemoryPerQueryMB": value.MaxMemoryPerQueryMB = PlayFabJson.readInteger(in); break;
+                        case "VirtualCpuCores": value.VirtualCpuCores = PlayFabJson.readInteger(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class InsightsSetPerformanceRequestAdapter extends TypeAdapter<InsightsSetPerformanceRequest> {
+        private final TypeAdapter<String> stringAdapter;
+
+        private InsightsSetPerformanceRequestAdapter(Gson gson) {
+            stringAdapter = gson.getAdapter(String.class);
+        }
+
+        @Override
+        public void write(JsonWriter out, InsightsSetPerformanceRequest value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            PlayFabJson.writeMap(out.name("CustomTags"), value.CustomTags, stringAdapter);
+            out.name("PerformanceLevel").value(value.PerformanceLevel);
+            out.endObject();
+        }
+
+        @Override
+        public InsightsSetPerformanceRequest read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            InsightsSetPerformanceRequest value = new InsightsSetPerformanceRequest();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "CustomTags": value.CustomTags = PlayFabJson.readMap(in, stringAdapter); break;
+                        case "PerformanceLevel": value.PerformanceLevel = PlayFabJson.readInteger(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class InsightsSetStorageRetentionRequestAdapter extends TypeAdapter<InsightsSetStorageRetentionRequest> {
+        private final TypeAdapter<String> stringAdapter;
+
+        private InsightsSetStorageRetentionRequestAdapter(Gson gson) {
+            stringAdapter = gson.getAdapter(String.class);
+        }
+
+        @Override
+        public void write(JsonWriter out, InsightsSetStorageRetentionRequest value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            PlayFabJson.writeMap(out.name("CustomTags"), value.CustomTags, stringAdapter);
+            out.name("RetentionDays").value(value.RetentionDays);
+            out.endObject();
+        }
+
+        @Override
+        public InsightsSetStorageRetentionRequest read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            InsightsSetStorageRetentionRequest value = new InsightsSetStorageRetentionRequest();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "CustomTags": value.CustomTags = PlayFabJson.readMap(in, stringAdapter); break;
+                        case "RetentionDays": value.RetentionDays = PlayFabJson.readInteger(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+}
@@ -0,0 +1,96 @@
+package com.playfab;
+
+import java.util.concurrent.atomic.AtomicReference;
+
+import com.playfab.PlayFabAuthenticationModels.EntityKey;
+
+/**
+ * Base of the instance API classes, such as PlayFabClientInstanceAPI, which make their calls with a PlayFabApiContext of
+ * their own instead of PlayFabSettings. Each call reads the current context once, with no locking. Login calls and
+ * GetEntityToken replace it with a copy holding the new session ticket or entity token, so an instance acts as one
+ * player's or one title's session; use one instance per session. With an entity token manager set, calls use the
+ * manager's token for the instance's entity instead.
+ */
+public abstract class PlayFabInstanceAPI {
+    private static class TokenSource {
+        private final PlayFabEntityTokenManager manager;
+        private final EntityKey entity;
+
+        private TokenSource(PlayFabEntityTokenManager manager, EntityKey entity) {
+            this.manager = manager;
+            this.entity = entity;
+        }
+    }
+
+    private final AtomicReference<PlayFabApiContext> context;
+    private volatile TokenSource tokenSource = null;
+
+    protected PlayFabInstanceAPI(PlayFabApiContext context) {
+        if (context == null)
+            throw new NullPointerException("context");
+        this.context = new AtomicReference<PlayFabApiContext>(context);
+    }
+
+    public PlayFabApiContext getContext() {
+        return context.get();
+    }
+
+    public void setContext(PlayFabApiContext context) {
+        if (context == null)
+            throw new NullPointerException("context");
+        this.context.set(context);
+    }
+
+    /**
+     * Makes calls with the manager's token for an entity, kept fresh in the background
+     * @param entity The entity, null for the one the manager's credentials sign in as
+     */
+    public void setEntityTokenManager(PlayFabEntityTokenManager manager, EntityKey entity) {
+        tokenSource = manager != null ? new TokenSource(manager, entity) : null;
+    }
+
+    /**
+     * @return the context a call is made with: the instance's, or for calls through the static API classes one that reads
+     * PlayFabSettings as the call goes, without copying it or asking the token manager unless the endpoint needs a token
+     */
+    static PlayFabApiContext contextOf(PlayFabInstanceAPI instance) {
+        if (instance == null)
+            return PlayFabApiContext.SETTINGS;
+
+        PlayFabApiContext current = instance.context.get();
+        TokenSource source = instance.tokenSource;
+        if (source == null)
+            return current;
+        String entityToken = source.manager.getEntityToken(source.entity);
+        if (entityToken == null || entityToken.equals(current.getEntityToken()))
+            return current;
+        // Keep the refreshed token, so later calls find it in place. Losing the race to another update is fine
+        PlayFabApiContext refreshed = current.withEntityToken(entityToken);
+        instance.context.compareAndSet(current, refreshed);
+        return refreshed;
+    }
+
+    /**
+     * Keeps the credentials a call returned, in the instance's context or in PlayFabSettings. Null values leave the current ones
+     */
+    static void updateSession(PlayFabInstanceAPI instance, String clientSessionTicket, String entityToken) {
+        if (instance == null) {
+            if (clientSessionTicket != null)
+                PlayFabSettings.ClientSessionTicket = clientSessionTicket;
+            if (entityToken != null)
+                PlayFabSettings.EntityToken = entityToken;
+            return;
+        }
+
+        while (true) {
+            PlayFabApiContext current = instance.context.get();
+            PlayFabApiContext updated = current;
+            if (clientSessionTicket != null)
+                updated = updated.withClientSessionTicket(clientSessionTicket);
+            if (entityToken != null)
+                updated = updated.withEntityToken(entityToken);
+            if (instance.context.compareAndSet(current, updated))
+                return;
+        }
+    }
+}
@@ -0,0 +1,113 @@
+package com.playfab;
+
+import java.io.IOException;
+import com.google.gson.*;
+import com.google.gson.reflect.TypeToken;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
+import com.playfab.PlayFabLocalizationModels.*;
+import com.playfab.internal.PlayFabJson;
+
+/**
+ * Streaming TypeAdapters for every class in PlayFabLocalizationModels, so models are read and written without field reflection.
+ * PlayFabJson finds FACTORY through this class name. Enums keep Gson's own adapters, which do no per-call reflection.
+ * Generated from PlayFabLocalizationModels by PlayFabModelAdaptersGenerator, in the PlayFabSDK tests: regenerate rather than edit.
+ */
+public class PlayFabLocalizationModelsAdapters {
+    public static final TypeAdapterFactory FACTORY = new TypeAdapterFactory() {
+        @SuppressWarnings("unchecked")
+        public <T> TypeAdapter<T> create(Gson gson, TypeToken<T> type) {
+            Class<?> raw = type.getRawType();
+            if (raw.getDeclaringClass() != PlayFabLocalizationModels.class)
+                return null;
+            switch (raw.getSimpleName()) {
+                case "GetLanguageListRequest": return (TypeAdapter<T>) new GetLanguageListRequestAdapter(gson);
+                case "GetLanguageListResponse": return (TypeAdapter<T>) new GetLanguageListResponseAdapter(gson);
+                default: return null;
+            }
+        }
+    };
+
+    private static class GetLanguageListRequestAdapter extends TypeAdapter<GetLanguageListRequest> {
+        private final TypeAdapter<String> stringAdapter;
+
+        private GetLanguageListRequestAdapter(Gson gson) {
+            stringAdapter = gson.getAdapter(String.class);
+        }
+
+        @Override
+        public void write(JsonWriter out, GetLanguageListRequest value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            PlayFabJson.writeMap(out.name("CustomTags"), value.CustomTags, stringAdapter);
+            out.endObject();
+        }
+
+        @Override
+        public GetLanguageListRequest read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            GetLanguageListRequest value = new GetLanguageListRequest();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "CustomTags": value.CustomTags = PlayFabJson.readMap(in, stringAdapter); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class GetLanguageListResponseAdapter extends TypeAdapter<GetLanguageListResponse> {
+        private final TypeAdapter<String> stringAdapter;
+
+        private GetLanguageListResponseAdapter(Gson gson) {
+            stringAdapter = gson.getAdapter(String.class);
+        }
+
+        @Override
+        public void write(JsonWriter out, GetLanguageListResponse value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            PlayFabJson.writeList(out.name("LanguageList"), value.LanguageList, stringAdapter);
+            out.endObject();
+        }
+
+        @Override
+        public GetLanguageListResponse read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            GetLanguageListResponse value = new GetLanguageListResponse();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "LanguageList": value.LanguageList = PlayFabJson.readList(in, stringAdapter); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+}
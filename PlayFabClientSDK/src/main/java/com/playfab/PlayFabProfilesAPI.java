@@ -6,15 +6,13 @@ import com.playfab.PlayFabErrors.*;
 import com.playfab.PlayFabSettings;
 import java.util.concurrent.*;
 import java.util.*;
-import com.google.gson.*;
-import com.google.gson.reflect.*;
 
     /**
      * All PlayFab entities have profiles, which hold top-level properties about the entity. These APIs give you the tools
      * needed to manage entity profiles.
      */
 public class PlayFabProfilesAPI {
-    private static Gson gson = new GsonBuilder().setDateFormat("yyyy-MM-dd'T'HH:mm:ss.SSS'Z'").create();
+    private static final Async async = new Async();
 
     /**
      * Gets the global title access policy
@@ -25,7 +23,7 @@ public class PlayFabProfilesAPI {
     public static FutureTask<PlayFabResult<GetGlobalPolicyResponse>> GetGlobalPolicyAsync(final GetGlobalPolicyRequest request) {
         return new FutureTask(new Callable<PlayFabResult<GetGlobalPolicyResponse>>() {
             public PlayFabResult<GetGlobalPolicyResponse> call() throws Exception {
-                return privateGetGlobalPolicyAsync(request);
+                return privateGetGlobalPolicyAsync(null, request);
             }
         });
     }
@@ -39,7 +37,7 @@ public class PlayFabProfilesAPI {
     public static PlayFabResult<GetGlobalPolicyResponse> GetGlobalPolicy(final GetGlobalPolicyRequest request) {
         FutureTask<PlayFabResult<GetGlobalPolicyResponse>> task = new FutureTask(new Callable<PlayFabResult<GetGlobalPolicyResponse>>() {
             public PlayFabResult<GetGlobalPolicyResponse> call() throws Exception {
-                return privateGetGlobalPolicyAsync(request);
+                return privateGetGlobalPolicyAsync(null, request);
             }
         });
         try {
@@ -54,10 +52,12 @@ public class PlayFabProfilesAPI {
 
     /** Gets the global title access policy */
     @SuppressWarnings("unchecked")
-    private static PlayFabResult<GetGlobalPolicyResponse> privateGetGlobalPolicyAsync(final GetGlobalPolicyRequest request) throws Exception {
-        if (PlayFabSettings.EntityToken == null) throw new Exception ("Must call GetEntityToken before you can use the Entity API");
+    static PlayFabResult<GetGlobalPolicyResponse> privateGetGlobalPolicyAsync(final PlayFabInstanceAPI instance, final GetGlobalPolicyRequest request) throws Exception {
+        final PlayFabApiContext context = PlayFabInstanceAPI.contextOf(instance);
+        final String entityToken = context.getEntityToken();
+        if (entityToken == null) throw new Exception ("Must call GetEntityToken before you can use the Entity API");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Profile/GetGlobalPolicy"), request, "X-EntityToken", PlayFabSettings.EntityToken);
+        FutureTask<Object> task = PlayFabHTTP.doPost(context.getURL("/Profile/GetGlobalPolicy"), request, "X-EntityToken", entityToken, GetGlobalPolicyResponse.class);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -68,9 +68,7 @@ public class PlayFabProfilesAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
-
-        PlayFabJsonSuccess<GetGlobalPolicyResponse> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<GetGlobalPolicyResponse>>(){}.getType());
+        PlayFabJsonSuccess<GetGlobalPolicyResponse> resultData = (PlayFabJsonSuccess<GetGlobalPolicyResponse>) httpResult;
         GetGlobalPolicyResponse result = resultData.data;
 
         PlayFabResult<GetGlobalPolicyResponse> pfResult = new PlayFabResult<GetGlobalPolicyResponse>();
@@ -87,7 +85,7 @@ public class PlayFabProfilesAPI {
     public static FutureTask<PlayFabResult<GetEntityProfileResponse>> GetProfileAsync(final GetEntityProfileRequest request) {
         return new FutureTask(new Callable<PlayFabResult<GetEntityProfileResponse>>() {
             public PlayFabResult<GetEntityProfileResponse> call() throws Exception {
-                return privateGetProfileAsync(request);
+                return privateGetProfileAsync(null, request);
             }
         });
     }
@@ -101,7 +99,7 @@ public class PlayFabProfilesAPI {
     public static PlayFabResult<GetEntityProfileResponse> GetProfile(final GetEntityProfileRequest request) {
         FutureTask<PlayFabResult<GetEntityProfileResponse>> task = new FutureTask(new Callable<PlayFabResult<GetEntityProfileResponse>>() {
             public PlayFabResult<GetEntityProfileResponse> call() throws Exception {
-                return privateGetProfileAsync(request);
+                return privateGetProfileAsync(null, request);
             }
         });
         try {
@@ -116,10 +114,12 @@ public class PlayFabProfilesAPI {
 
     /** Retrieves the entity's profile. */
     @SuppressWarnings("unchecked")
-    private static PlayFabResult<GetEntityProfileResponse> privateGetProfileAsync(final GetEntityProfileRequest request) throws Exception {
-        if (PlayFabSettings.EntityToken == null) throw new Exception ("Must call GetEntityToken before you can use the Entity API");
+    static PlayFabResult<GetEntityProfileResponse> privateGetProfileAsync(final PlayFabInstanceAPI instance, final GetEntityProfileRequest request) throws Exception {
+        final PlayFabApiContext context = PlayFabInstanceAPI.contextOf(instance);
+        final String entityToken = context.getEntityToken();
+        if (entityToken == null) throw new Exception ("Must call GetEntityToken before you can use the Entity API");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Profile/GetProfile"), request, "X-EntityToken", PlayFabSettings.EntityToken);
+        FutureTask<Object> task = PlayFabHTTP.doPost(context.getURL("/Profile/GetProfile"), request, "X-EntityToken", entityToken, GetEntityProfileResponse.class);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -130,9 +130,7 @@ public class PlayFabProfilesAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
-
-        PlayFabJsonSuccess<GetEntityProfileResponse> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<GetEntityProfileResponse>>(){}.getType());
+        PlayFabJsonSuccess<GetEntityProfileResponse> resultData = (PlayFabJsonSuccess<GetEntityProfileResponse>) httpResult;
         GetEntityProfileResponse result = resultData.data;
 
         PlayFabResult<GetEntityProfileResponse> pfResult = new PlayFabResult<GetEntityProfileResponse>();
@@ -149,7 +147,7 @@ public class PlayFabProfilesAPI {
     public static FutureTask<PlayFabResult<GetEntityProfilesResponse>> GetProfilesAsync(final GetEntityProfilesRequest request) {
         return new FutureTask(new Callable<PlayFabResult<GetEntityProfilesResponse>>() {
             public PlayFabResult<GetEntityProfilesResponse> call() throws Exception {
-                return privateGetProfilesAsync(request);
+                return privateGetProfilesAsync(null, request);
             }
         });
     }
@@ -163,7 +161,7 @@ public class PlayFabProfilesAPI {
     public static PlayFabResult<GetEntityProfilesResponse> GetProfiles(final GetEntityProfilesRequest request) {
         FutureTask<PlayFabResult<GetEntityProfilesResponse>> task = new FutureTask(new Callable<PlayFabResult<GetEntityProfilesResponse>>() {
             public PlayFabResult<GetEntityProfilesResponse> call() throws Exception {
-                return privateGetProfilesAsync(request);
+                return privateGetProfilesAsync(null, request);
             }
         });
         try {
@@ -178,10 +176,12 @@ public class PlayFabProfilesAPI {
 
     /** Retrieves the entity's profile. */
     @SuppressWarnings("unchecked")
-    private static PlayFabResult<GetEntityProfilesResponse> privateGetProfilesAsync(final GetEntityProfilesRequest request) throws Exception {
-        if (PlayFabSettings.EntityToken == null) throw new Exception ("Must call GetEntityToken before you can use the Entity API");
+    static PlayFabResult<GetEntityProfilesResponse> privateGetProfilesAsync(final PlayFabInstanceAPI instance, final GetEntityProfilesRequest request) throws Exception {
+        final PlayFabApiContext context = PlayFabInstanceAPI.contextOf(instance);
+        final String entityToken = context.getEntityToken();
+        if (entityToken == null) throw new Exception ("Must call GetEntityToken before you can use the Entity API");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Profile/GetProfiles"), request, "X-EntityToken", PlayFabSettings.EntityToken);
+        FutureTask<Object> task = PlayFabHTTP.doPost(context.getURL("/Profile/GetProfiles"), request, "X-EntityToken", entityToken, GetEntityProfilesResponse.class);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -192,9 +192,7 @@ public class PlayFabProfilesAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
-
-        PlayFabJsonSuccess<GetEntityProfilesResponse> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<GetEntityProfilesResponse>>(){}.getType());
+        PlayFabJsonSuccess<GetEntityProfilesResponse> resultData = (PlayFabJsonSuccess<GetEntityProfilesResponse>) httpResult;
         GetEntityProfilesResponse result = resultData.data;
 
         PlayFabResult<GetEntityProfilesResponse> pfResult = new PlayFabResult<GetEntityProfilesResponse>();
@@ -211,7 +209,7 @@ public class PlayFabProfilesAPI {
     public static FutureTask<PlayFabResult<GetTitlePlayersFromMasterPlayerAccountIdsResponse>> GetTitlePlayersFromMasterPlayerAccountIdsAsync(final GetTitlePlayersFromMasterPlayerAccountIdsRequest request) {
         return new FutureTask(new Callable<PlayFabResult<GetTitlePlayersFromMasterPlayerAccountIdsResponse>>() {
             public PlayFabResult<GetTitlePlayersFromMasterPlayerAccountIdsResponse> call() throws Exception {
-                return privateGetTitlePlayersFromMasterPlayerAccountIdsAsync(request);
+                return privateGetTitlePlayersFromMasterPlayerAccountIdsAsync(null, request);
             }
         });
     }
@@ -225,7 +223,7 @@ public class PlayFabProfilesAPI {
     public static PlayFabResult<GetTitlePlayersFromMasterPlayerAccountIdsResponse> GetTitlePlayersFromMasterPlayerAccountIds(final GetTitlePlayersFromMasterPlayerAccountIdsRequest request) {
         FutureTask<PlayFabResult<GetTitlePlayersFromMasterPlayerAccountIdsResponse>> task = new FutureTask(new Callable<PlayFabResult<GetTitlePlayersFromMasterPlayerAccountIdsResponse>>() {
             public PlayFabResult<GetTitlePlayersFromMasterPlayerAccountIdsResponse> call() throws Exception {
-                return privateGetTitlePlayersFromMasterPlayerAccountIdsAsync(request);
+                return privateGetTitlePlayersFromMasterPlayerAccountIdsAsync(null, request);
             }
         });
         try {
@@ -240,10 +238,12 @@ public class PlayFabProfilesAPI {
 
     /** Retrieves the title player accounts associated with the given master player account. */
     @SuppressWarnings("unchecked")
-    private static PlayFabResult<GetTitlePlayersFromMasterPlayerAccountIdsResponse> privateGetTitlePlayersFromMasterPlayerAccountIdsAsync(final GetTitlePlayersFromMasterPlayerAccountIdsRequest request) throws Exception {
-        if (PlayFabSettings.EntityToken == null) throw new Exception ("Must call GetEntityToken before you can use the Entity API");
+    static PlayFabResult<GetTitlePlayersFromMasterPlayerAccountIdsResponse> privateGetTitlePlayersFromMasterPlayerAccountIdsAsync(final PlayFabInstanceAPI instance, final GetTitlePlayersFromMasterPlayerAccountIdsRequest request) throws Exception {
+        final PlayFabApiContext context = PlayFabInstanceAPI.contextOf(instance);
+        final String entityToken = context.getEntityToken();
+        if (entityToken == null) throw new Exception ("Must call GetEntityToken before you can use the Entity API");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Profile/GetTitlePlayersFromMasterPlayerAccountIds"), request, "X-EntityToken", PlayFabSettings.EntityToken);
+        FutureTask<Object> task = PlayFabHTTP.doPost(context.getURL("/Profile/GetTitlePlayersFromMasterPlayerAccountIds"), request, "X-EntityToken", entityToken, GetTitlePlayersFromMasterPlayerAccountIdsResponse.class);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -254,9 +254,7 @@ public class PlayFabProfilesAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
-
-        PlayFabJsonSuccess<GetTitlePlayersFromMasterPlayerAccountIdsResponse> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<GetTitlePlayersFromMasterPlayerAccountIdsResponse>>(){}.getType());
+        PlayFabJsonSuccess<GetTitlePlayersFromMasterPlayerAccountIdsResponse> resultData = (PlayFabJsonSuccess<GetTitlePlayersFromMasterPlayerAccountIdsResponse>) httpResult;
         GetTitlePlayersFromMasterPlayerAccountIdsResponse result = resultData.data;
 
         PlayFabResult<GetTitlePlayersFromMasterPlayerAccountIdsResponse> pfResult = new PlayFabResult<GetTitlePlayersFromMasterPlayerAccountIdsResponse>();
@@ -273,7 +271,7 @@ public class PlayFabProfilesAPI {
     public static FutureTask<PlayFabResult<SetGlobalPolicyResponse>> SetGlobalPolicyAsync(final SetGlobalPolicyRequest request) {
         return new FutureTask(new Callable<PlayFabResult<SetGlobalPolicyResponse>>() {
             public PlayFabResult<SetGlobalPolicyResponse> call() throws Exception {
-                return privateSetGlobalPolicyAsync(request);
+                return privateSetGlobalPolicyAsync(null, request);
             }
         });
     }
@@ -287,7 +285,7 @@ public class PlayFabProfilesAPI {
     public static PlayFabResult<SetGlobalPolicyResponse> SetGlobalPolicy(final SetGlobalPolicyRequest request) {
         FutureTask<PlayFabResult<SetGlobalPolicyResponse>> task = new FutureTask(new Callable<PlayFabResult<SetGlobalPolicyResponse>>() {
             public PlayFabResult<SetGlobalPolicyResponse> call() throws Exception {
-                return privateSetGlobalPolicyAsync(request);
+                return privateSetGlobalPolicyAsync(null, request);
             }
         });
         try {
@@ -302,10 +300,12 @@ public class PlayFabProfilesAPI {
 
     /** Sets the global title access policy */
     @SuppressWarnings("unchecked")
-    private static PlayFabResult<SetGlobalPolicyResponse> privateSetGlobalPolicyAsync(final SetGlobalPolicyRequest request) throws Exception {
-        if (PlayFabSettings.EntityToken == null) throw new Exception ("Must call GetEntityToken before you can use the Entity API");
+    static PlayFabResult<SetGlobalPolicyResponse> privateSetGlobalPolicyAsync(final PlayFabInstanceAPI instance, final SetGlobalPolicyRequest request) throws Exception {
+        final PlayFabApiContext context = PlayFabInstanceAPI.contextOf(instance);
+        final String entityToken = context.getEntityToken();
+        if (entityToken == null) throw new Exception ("Must call GetEntityToken before you can use the Entity API");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Profile/SetGlobalPolicy"), request, "X-EntityToken", PlayFabSettings.EntityToken);
+        FutureTask<Object> task = PlayFabHTTP.doPost(context.getURL("/Profile/SetGlobalPolicy"), request, "X-EntityToken", entityToken, SetGlobalPolicyResponse.class);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -316,9 +316,7 @@ public class PlayFabProfilesAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
-
-        PlayFabJsonSuccess<SetGlobalPolicyResponse> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<SetGlobalPolicyResponse>>(){}.getType());
+        PlayFabJsonSuccess<SetGlobalPolicyResponse> resultData = (PlayFabJsonSuccess<SetGlobalPolicyResponse>) httpResult;
         SetGlobalPolicyResponse result = resultData.data;
 
         PlayFabResult<SetGlobalPolicyResponse> pfResult = new PlayFabResult<SetGlobalPolicyResponse>();
@@ -336,7 +334,7 @@ public class PlayFabProfilesAPI {
     public static FutureTask<PlayFabResult<SetProfileLanguageResponse>> SetProfileLanguageAsync(final SetProfileLanguageRequest request) {
         return new FutureTask(new Callable<PlayFabResult<SetProfileLanguageResponse>>() {
             public PlayFabResult<SetProfileLanguageResponse> call() throws Exception {
-                return privateSetProfileLanguageAsync(request);
+                return privateSetProfileLanguageAsync(null, request);
             }
         });
     }
@@ -351,7 +349,7 @@ public class PlayFabProfilesAPI {
     public static PlayFabResult<SetProfileLanguageResponse> SetProfileLanguage(final SetProfileLanguageRequest request) {
         FutureTask<PlayFabResult<SetProfileLanguageResponse>> task = new FutureTask(new Callable<PlayFabResult<SetProfileLanguageResponse>>() {
             public PlayFabResult<SetProfileLanguageResponse> call() throws Exception {
-                return privateSetProfileLanguageAsync(request);
+                return privateSetProfileLanguageAsync(null, request);
             }
         });
         try {
@@ -369,10 +367,12 @@ public class PlayFabProfilesAPI {
      * language, Master Player Account language, and then title default language if the first two aren't set or supported.
      */
     @SuppressWarnings("unchecked")
-    private static PlayFabResult<SetProfileLanguageResponse> privateSetProfileLanguageAsync(final SetProfileLanguageRequest request) throws Exception {
-        if (PlayFabSettings.EntityToken == null) throw new Exception ("Must call GetEntityToken before you can use the Entity API");
+    static PlayFabResult<SetProfileLanguageResponse> privateSetProfileLanguageAsync(final PlayFabInstanceAPI instance, final SetProfileLanguageRequest request) throws Exception {
+        final PlayFabApiContext context = PlayFabInstanceAPI.contextOf(instance);
+        final String entityToken = context.getEntityToken();
+        if (entityToken == null) throw new Exception ("Must call GetEntityToken before you can use the Entity API");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Profile/SetProfileLanguage"), request, "X-EntityToken", PlayFabSettings.EntityToken);
+        FutureTask<Object> task = PlayFabHTTP.doPost(context.getURL("/Profile/SetProfileLanguage"), request, "X-EntityToken", entityToken, SetProfileLanguageResponse.class);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -383,9 +383,7 @@ public class PlayFabProfilesAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
-
-        PlayFabJsonSuccess<SetProfileLanguageResponse> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<SetProfileLanguageResponse>>(){}.getType());
+        PlayFabJsonSuccess<SetProfileLanguageResponse> resultData = (PlayFabJsonSuccess<SetProfileLanguageResponse>) httpResult;
         SetProfileLanguageResponse result = resultData.data;
 
         PlayFabResult<SetProfileLanguageResponse> pfResult = new PlayFabResult<SetProfileLanguageResponse>();
@@ -402,7 +400,7 @@ public class PlayFabProfilesAPI {
     public static FutureTask<PlayFabResult<SetEntityProfilePolicyResponse>> SetProfilePolicyAsync(final SetEntityProfilePolicyRequest request) {
         return new FutureTask(new Callable<PlayFabResult<SetEntityProfilePolicyResponse>>() {
             public PlayFabResult<SetEntityProfilePolicyResponse> call() throws Exception {
-                return privateSetProfilePolicyAsync(request);
+                return privateSetProfilePolicyAsync(null, request);
             }
         });
     }
@@ -416,7 +414,7 @@ public class PlayFabProfilesAPI {
     public static PlayFabResult<SetEntityProfilePolicyResponse> SetProfilePolicy(final SetEntityProfilePolicyRequest request) {
         FutureTask<PlayFabResult<SetEntityProfilePolicyResponse>> task = new FutureTask(new Callable<PlayFabResult<SetEntityProfilePolicyResponse>>() {
             public PlayFabResult<SetEntityProfilePolicyResponse> call() throws Exception {
-                return privateSetProfilePolicyAsync(request);
+                return privateSetProfilePolicyAsync(null, request);
             }
         });
         try {
@@ -431,10 +429,12 @@ public class PlayFabProfilesAPI {
 
     /** Sets the profiles access policy */
     @SuppressWarnings("unchecked")
-    private static PlayFabResult<SetEntityProfilePolicyResponse> privateSetProfilePolicyAsync(final SetEntityProfilePolicyRequest request) throws Exception {
-        if (PlayFabSettings.EntityToken == null) throw new Exception ("Must call GetEntityToken before you can use the Entity API");
+    static PlayFabResult<SetEntityProfilePolicyResponse> privateSetProfilePolicyAsync(final PlayFabInstanceAPI instance, final SetEntityProfilePolicyRequest request) throws Exception {
+        final PlayFabApiContext context = PlayFabInstanceAPI.contextOf(instance);
+        final String entityToken = context.getEntityToken();
+        if (entityToken == null) throw new Exception ("Must call GetEntityToken before you can use the Entity API");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Profile/SetProfilePolicy"), request, "X-EntityToken", PlayFabSettings.EntityToken);
+        FutureTask<Object> task = PlayFabHTTP.doPost(context.getURL("/Profile/SetProfilePolicy"), request, "X-EntityToken", entityToken, SetEntityProfilePolicyResponse.class);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -445,9 +445,7 @@ public class PlayFabProfilesAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
-
-        PlayFabJsonSuccess<SetEntityProfilePolicyResponse> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<SetEntityProfilePolicyResponse>>(){}.getType());
+        PlayFabJsonSuccess<SetEntityProfilePolicyResponse> resultData = (PlayFabJsonSuccess<SetEntityProfilePolicyResponse>) httpResult;
         SetEntityProfilePolicyResponse result = resultData.data;
 
         PlayFabResult<SetEntityProfilePolicyResponse> pfResult = new PlayFabResult<SetEntityProfilePolicyResponse>();
@@ -455,4 +453,110 @@ public class PlayFabProfilesAPI {
         return pfResult;
     }
 
+    /**
+     * @return Non-blocking versions of every PlayFabProfilesAPI call, started on PlayFabSettings.AsyncExecutor
+     */
+    public static Async async() {
+        return async;
+    }
+
+    /**
+     * Non-blocking versions of the PlayFabProfilesAPI calls. Each call is already running when its PlayFabFuture is returned.
+     */
+    public static class Async {
+        private Async() {
+        }
+
+        /**
+         * Gets the global title access policy
+         * @param request GetGlobalPolicyRequest
+         * @return Running future that will complete with GetGlobalPolicyResponse
+         */
+        public PlayFabFuture<PlayFabResult<GetGlobalPolicyResponse>> GetGlobalPolicy(final GetGlobalPolicyRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<GetGlobalPolicyResponse>>() {
+                public PlayFabResult<GetGlobalPolicyResponse> call() throws Exception {
+                    return privateGetGlobalPolicyAsync(null, request);
+                }
+            });
+        }
+
+        /**
+         * Retrieves the entity's profile.
+         * @param request GetEntityProfileRequest
+         * @return Running future that will complete with GetEntityProfileResponse
+         */
+        public PlayFabFuture<PlayFabResult<GetEntityProfileResponse>> GetProfile(final GetEntityProfileRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<GetEntityProfileResponse>>() {
+                public PlayFabResult<GetEntityProfileResponse> call() throws Exception {
+                    return privateGetProfileAsync(null, request);
+                }
+            });
+        }
+
+        /**
+         * Retrieves the entity's profile.
+         * @param request GetEntityProfilesRequest
+         * @return Running future that will complete with GetEntityProfilesResponse
+         */
+        public PlayFabFuture<PlayFabResult<GetEntityProfilesResponse>> GetProfiles(final GetEntityProfilesRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<GetEntityProfilesResponse>>() {
+                public PlayFabResult<GetEntityProfilesResponse> call() throws Exception {
+                    return privateGetProfilesAsync(null, request);
+                }
+            });
+        }
+
+        /**
+         * Retrieves the title player accounts associated with the given master player account.
+         * @param request GetTitlePlayersFromMasterPlayerAccountIdsRequest
+         * @return Running future that will complete with GetTitlePlayersFromMasterPlayerAccountIdsResponse
+         */
+        public PlayFabFuture<PlayFabResult<GetTitlePlayersFromMasterPlayerAccountIdsResponse>> GetTitlePlayersFromMasterPlayerAccountIds(final GetTitlePlayersFromMasterPlayerAccountIdsRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<GetTitlePlayersFromMasterPlayerAccountIdsResponse>>() {
+                public PlayFabResult<GetTitlePlayersFromMasterPlayerAccountIdsResponse> call() throws Exception {
+                    return privateGetTitlePlayersFromMasterPlayerAccountIdsAsync(null, request);
+                }
+            });
+        }
+
+        /**
+         * Sets the global title access policy
+         * @param request SetGlobalPolicyRequest
+         * @return Running future that will complete with SetGlobalPolicyResponse
+         */
+        public PlayFabFuture<PlayFabResult<SetGlobalPolicyResponse>> SetGlobalPolicy(final SetGlobalPolicyRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<SetGlobalPolicyResponse>>() {
+                public PlayFabResult<SetGlobalPolicyResponse> call() throws Exception {
+                    return privateSetGlobalPolicyAsync(null, request);
+                }
+            });
+        }
+
+        /**
+         * Updates the entity's language. The precedence hierarchy for communication to the player is Title Player Account
+         * language, Master Player Account language, and then title default language if the first two aren't set or supported.
+         * @param request SetProfileLanguageRequest
+         * @return Running future that will complete with SetProfileLanguageResponse
+         */
+        public PlayFabFuture<PlayFabResult<SetProfileLanguageResponse>> SetProfileLanguage(final SetProfileLanguageRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<SetProfileLanguageResponse>>() {
+                public PlayFabResult<SetProfileLanguageResponse> call() throws Exception {
+                    return privateSetProfileLanguageAsync(null, request);
+                }
+            });
+        }
+
+        /**
+         * Sets the profiles access policy
+         * @param request SetEntityProfilePolicyRequest
+         * @return Running future that will complete with SetEntityProfilePolicyResponse
+         */
+        public PlayFabFuture<PlayFabResult<SetEntityProfilePolicyResponse>> SetProfilePolicy(final SetEntityProfilePolicyRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<SetEntityProfilePolicyResponse>>() {
+                public PlayFabResult<SetEntityProfilePolicyResponse> call() throws Exception {
+                    return privateSetProfilePolicyAsync(null, request);
+                }
+            });
+        }
+    }
 }
@@ -0,0 +1,87 @@
+package com.playfab.internal;
+
+import java.io.*;
+
+/**
+ * Links an in-flight API call to the connection it is using, so cancelling the call closes the connection instead of
+ * leaving a blocked read to run into ReadTimeoutMilliseconds.
+ * PlayFabFuture opens a scope on the thread that runs each call, and transports register their connection with register().
+ */
+public class PlayFabAbortScope {
+    private static final ThreadLocal<PlayFabAbortScope> current = new ThreadLocal<PlayFabAbortScope>();
+
+    // Both volatile, so abort() and register() racing on different threads always see each other
+    private volatile boolean aborted = false;
+    private volatile Closeable connection = null;
+    private Thread thread = null; // Guarded by this, the thread running the call while it is inside the scope
+
+    public void enter() {
+        current.set(this);
+        synchronized (this) {
+            thread = Thread.currentThread();
+        }
+    }
+
+    public void exit() {
+        synchronized (this) {
+            thread = null;
+        }
+        connection = null;
+        current.remove();
+    }
+
+    public boolean isAborted() {
+        return aborted;
+    }
+
+    /**
+     * Marks the call as cancelled and closes the connection it is currently using, if any
+     */
+    public void abort() {
+        aborted = true;
+        closeQuietly(connection);
+    }
+
+    /**
+     * Interrupts the thread running the call, unless it has already left the scope and may be running something else
+     */
+    public synchronized void interrupt() {
+        if (thread != null)
+            thread.interrupt();
+    }
+
+    /**
+     * Registers the connection used by the call running on this thread, if the call runs inside a scope
+     * @throws InterruptedIOException if the call has already been cancelled; the connection is closed
+     */
+    public static void register(Closeable connection) throws InterruptedIOException {
+        PlayFabAbortScope scope = current.get();
+        if (scope == null)
+            return;
+
+        scope.connection = connection;
+        if (scope.aborted) {
+            closeQuietly(connection);
+            throw new InterruptedIOException("The API call was cancelled");
+        }
+    }
+
+    /**
+     * Forgets the connection registered by the call running on this thread, once it no longer needs to be closed on cancel
+     */
+    public static void unregister() {
+        PlayFabAbortScope scope = current.get();
+        if (scope != null)
+            scope.connection = null;
+    }
+
+    private static void closeQuietly(Closeable connection) {
+        if (connection == null)
+            return;
+        try {
+            connection.close();
+        } catch (Exception e) {
+            // The call is being abandoned, so there is nobody left to report this to
+        }
+    }
+}
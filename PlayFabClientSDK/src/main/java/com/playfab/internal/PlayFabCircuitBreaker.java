@@ -0,0 +1,318 @@
+package com.playfab.internal;
+
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.*;
+
+import com.playfab.PlayFabSettings;
+
+/**
+ * Stops calling an endpoint, or a whole API family, that is failing or slow, so the calls fail at once instead of each
+ * holding a thread for the full timeout.
+ *
+ * A closed circuit counts calls over a sliding window of CircuitBreakerWindowMilliseconds. Once the window holds
+ * CircuitBreakerMinimumCalls calls, and the share that failed or took longer than CircuitBreakerSlowCallMilliseconds
+ * reaches its threshold, the circuit opens. An open circuit rejects every call for CircuitBreakerOpenMilliseconds, then
+ * turns half-open and lets CircuitBreakerHalfOpenProbes calls through: if all of them succeed the circuit closes again,
+ * and if any fails it opens for another period. Every change of state is passed to PlayFabSettings.CircuitBreakerListener.
+ */
+public class PlayFabCircuitBreaker {
+    private static final int BUCKETS = 10;
+
+    public enum State {
+        Closed,
+        Open,
+        HalfOpen
+    }
+
+    /**
+     * Told about every change of state of every circuit. Called on the thread whose call caused it, so it should be quick
+     */
+    public interface Listener {
+        void onStateChange(String name, State from, State to);
+    }
+
+    /**
+     * Leave to make one call through the circuit, handed back with its outcome
+     */
+    public static class Permit {
+        private final boolean probe;
+        private final long generation; // Of the half-open period a probe was let through in
+        private final long startNanos;
+
+        private Permit(boolean probe, long generation) {
+            this.probe = probe;
+            this.generation = generation;
+            this.startNanos = System.nanoTime();
+        }
+    }
+
+    /**
+     * The state of one circuit, with counts over the current window and since it was created
+     */
+    public static class Stats {
+        public State state;
+        public int windowCalls;
+        public int windowFailures;
+        public int windowSlowCalls;
+        public long calls;
+        public long failures;
+        public long slowCalls;
+        public long rejected; // Calls failed without being sent, while the circuit was open
+        public long opened; // Times the circuit has opened
+    }
+
+    /**
+     * The state of the circuit with what goes with it, replaced as a whole so that no thread sees one half of a change.
+     * Each change of state starts a new generation, so probes of an earlier half-open period cannot affect a later one
+     */
+    private static final class Phase {
+        private final State state;
+        private final long generation;
+        private final long openUntilNanos; // While open
+        private final int probes; // Let through while half-open
+        private final int probeSuccesses;
+
+        private Phase(State state, long generation, long openUntilNanos, int probes, int probeSuccesses) {
+            this.state = state;
+            this.generation = generation;
+            this.openUntilNanos = openUntilNanos;
+            this.probes = probes;
+            this.probeSuccesses = probeSuccesses;
+        }
+
+        private Phase next(State state) {
+            long openUntilNanos = state == State.Open
+                ? System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(Math.max(0, PlayFabSettings.CircuitBreakerOpenMilliseconds))
+                : 0;
+            return new Phase(state, generation + 1, openUntilNanos, 0, 0);
+        }
+    }
+
+    private final String name;
+    private final long createdNanos = System.nanoTime();
+    private final AtomicReference<Phase> phase = new AtomicReference<Phase>(new Phase(State.Closed, 0, 0, 0, 0));
+
+    // The sliding window, one bucket per tenth of it, guarded by the circuit
+    private final long[] bucketTimes = new long[BUCKETS];
+    private final int[] bucketCalls = new int[BUCKETS];
+    private final int[] bucketFailures = new int[BUCKETS];
+    private final int[] bucketSlowCalls = new int[BUCKETS];
+
+    private final AtomicLong calls = new AtomicLong();
+    private final AtomicLong failures = new AtomicLong();
+    private final AtomicLong slowCalls = new AtomicLong();
+    private final AtomicLong rejected = new AtomicLong();
+    private final AtomicLong opened = new AtomicLong();
+
+    /**
+     * @param name Endpoint or API family the circuit guards, passed to the listener
+     */
+    public PlayFabCircuitBreaker(String name) {
+        this.name = name;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public State getState() {
+        return phase.get().state;
+    }
+
+    /**
+     * @return leave to make a call, or null if the circuit is open and the call should fail without being sent
+     */
+    public Permit tryAcquire() {
+        while (true) {
+            Phase current = phase.get();
+            if (current.state == State.Closed)
+                return new Permit(false, current.generation);
+
+            if (current.state == State.Open) {
+                if (System.nanoTime() - current.openUntilNanos < 0)
+                    break;
+                transition(current, current.next(State.HalfOpen));
+                continue;
+            }
+
+            if (current.probes >= Math.max(1, PlayFabSettings.CircuitBreakerHalfOpenProbes))
+                break;
+            Phase admitted = new Phase(State.HalfOpen, current.generation, 0, current.probes + 1, current.probeSuccesses);
+            if (phase.compareAndSet(current, admitted))
+                return new Permit(true, current.generation);
+        }
+        rejected.incrementAndGet();
+        return null;
+    }
+
+    /**
+     * Records the outcome of a call made with a permit from tryAcquire
+     * @param failed true if the call failed in a way that says the service is unwell, rather than the request being wrong
+     */
+    public void record(Permit permit, boolean failed) {
+        long now = System.nanoTime();
+        boolean slow = TimeUnit.NANOSECONDS.toMillis(now - permit.startNanos) > PlayFabSettings.CircuitBreakerSlowCallMilliseconds;
+        calls.incrementAndGet();
+        if (failed)
+            failures.incrementAndGet();
+        if (slow)
+            slowCalls.incrementAndGet();
+
+        if (permit.probe) {
+            recordProbe(permit, failed || slow);
+            return;
+        }
+
+        // Calls started before the circuit opened say nothing about how the service is now
+        if (phase.get().state != State.Closed)
+            return;
+
+        boolean trip;
+        synchronized (this) {
+            int bucket = addToWindow(now, failed, slow);
+            int windowCalls = 0, windowFailures = 0, windowSlowCalls = 0;
+            for (int i = 0; i < BUCKETS; i++) {
+                if (bucketTimes[i] > bucketTimes[bucket] - BUCKETS) {
+                    windowCalls += bucketCalls[i];
+                    windowFailures += bucketFailures[i];
+                    windowSlowCalls += bucketSlowCalls[i];
+                }
+            }
+            trip = windowCalls >= Math.max(1, PlayFabSettings.CircuitBreakerMinimumCalls)
+                && (windowFailures >= windowCalls * PlayFabSettings.CircuitBreakerFailureRate
+                    || windowSlowCalls >= windowCalls * PlayFabSettings.CircuitBreakerSlowCallRate);
+        }
+        if (!trip)
+            return;
+        while (true) {
+            Phase current = phase.get();
+            if (current.state != State.Closed || transition(current, current.next(State.Open)))
+                return;
+        }
+    }
+
+    private void recordProbe(Permit permit, boolean failed) {
+        while (true) {
+            Phase current = phase.get();
+            if (current.state != State.HalfOpen || current.generation != permit.generation)
+                return;
+            Phase next;
+            if (failed)
+                next = current.next(State.Open);
+            else if (current.probeSuccesses + 1 >= Math.max(1, PlayFabSettings.CircuitBreakerHalfOpenProbes))
+                next = current.next(State.Closed);
+            else
+                next = new Phase(State.HalfOpen, current.generation, 0, current.probes, current.probeSuccesses + 1);
+            if (phase.compareAndSet(current, next)) {
+                if (next.state != State.HalfOpen)
+                    changed(current.state, next.state);
+                return;
+            }
+        }
+    }
+
+    /**
+     * Gives back a permit whose call was not made after all, such as one stopped by a rate limit. A probe's place in its
+     * half-open period is freed for another call; other permits need nothing back
+     */
+    public void cancel(Permit permit) {
+        if (!permit.probe)
+            return;
+        while (true) {
+            Phase current = phase.get();
+            if (current.state != State.HalfOpen || current.generation != permit.generation || current.probes == 0)
+                return;
+            Phase released = new Phase(State.HalfOpen, current.generation, 0, current.probes - 1, current.probeSuccesses);
+            if (phase.compareAndSet(current, released))
+                return;
+        }
+    }
+
+    /**
+     * @return how long an open circuit will keep rejecting calls, 0 if it is not open
+     */
+    public long getRemainingOpenMilliseconds() {
+        Phase current = phase.get();
+        if (current.state != State.Open)
+            return 0;
+        return Math.max(0, TimeUnit.NANOSECONDS.toMillis(current.openUntilNanos - System.nanoTime()));
+    }
+
+    public Stats getStats() {
+        Stats stats = new Stats();
+        stats.state = phase.get().state;
+        synchronized (this) {
+            long current = bucketTime(System.nanoTime());
+            for (int i = 0; i < BUCKETS; i++) {
+                if (bucketTimes[i] > current - BUCKETS) {
+                    stats.windowCalls += bucketCalls[i];
+                    stats.windowFailures += bucketFailures[i];
+                    stats.windowSlowCalls += bucketSlowCalls[i];
+                }
+            }
+        }
+        stats.calls = calls.get();
+        stats.failures = failures.get();
+        stats.slowCalls = slowCalls.get();
+        stats.rejected = rejected.get();
+        stats.opened = opened.get();
+        return stats;
+    }
+
+    /**
+     * @return the index of the bucket the call was added to
+     */
+    private int addToWindow(long now, boolean failed, boolean slow) {
+        long time = bucketTime(now);
+        int bucket = (int)(time % BUCKETS);
+        if (bucketTimes[bucket] != time) {
+            bucketTimes[bucket] = time;
+            bucketCalls[bucket] = 0;
+            bucketFailures[bucket] = 0;
+            bucketSlowCalls[bucket] = 0;
+        }
+        bucketCalls[bucket]++;
+        if (failed)
+            bucketFailures[bucket]++;
+        if (slow)
+            bucketSlowCalls[bucket]++;
+        return bucket;
+    }
+
+    private long bucketTime(long nanos) {
+        long bucketMilliseconds = Math.max(1, PlayFabSettings.CircuitBreakerWindowMilliseconds / BUCKETS);
+        // Offset so that no live bucket has time 0, the value of a bucket never used
+        return TimeUnit.NANOSECONDS.toMillis(nanos - createdNanos) / bucketMilliseconds + BUCKETS;
+    }
+
+    /**
+     * @return true if this thread made the change, and so reported it
+     */
+    private boolean transition(Phase from, Phase to) {
+        if (!phase.compareAndSet(from, to))
+            return false;
+        changed(from.state, to.state);
+        return true;
+    }
+
+    // Only called by the thread whose compareAndSet made the change
+    private void changed(State from, State to) {
+        if (to == State.Open) {
+            opened.incrementAndGet();
+        } else if (to == State.Closed) {
+            synchronized (this) {
+                for (int i = 0; i < BUCKETS; i++)
+                    bucketTimes[i] = 0;
+            }
+        }
+
+        Listener listener = PlayFabSettings.CircuitBreakerListener;
+        if (listener != null) {
+            try {
+                listener.onStateChange(name, from, to);
+            } catch (RuntimeException e) {
+                // A broken listener must not break the call that reported the change
+            }
+        }
+    }
+}
@@ -0,0 +1,235 @@
+package com.playfab.internal;
+
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.*;
+import java.util.concurrent.locks.*;
+
+import com.playfab.PlayFabSettings;
+
+/**
+ * Keep-alive connection pool for the PlayFab API hosts.
+ *
+ * HttpURLConnection hands every fully drained response socket back to the JDK keep-alive cache, which holds at most
+ * http.maxConnections idle sockets per host and closes the rest. This pool caps the number of concurrent requests per host
+ * to that same size, so every socket that finishes a request can be parked and picked up again by the next one instead of
+ * paying for a new TCP and TLS handshake. That cache only parks 5 sockets per host unless the JVM-wide http.maxConnections
+ * system property says otherwise; set PlayFabSettings.SetHttpMaxConnections to have the pool raise it to MaxConnectionsPerHost.
+ *
+ * The JDK does not say which socket a request actually got, so reuse is tracked by mirroring the keep-alive cache: each
+ * drained response parks an idle timestamp, and each lease takes one. The reused and evicted counts are estimates from
+ * that mirror, and drift from the real cache when it closes sockets on its own, such as when a server drops them early.
+ */
+public class PlayFabConnectionPool {
+    /**
+     * Point-in-time counters for one host, or for the whole pool
+     */
+    public static class Stats {
+        /** Requests that were granted a connection */
+        public long leases;
+        /** Estimated leases served by a connection that was parked in the keep-alive cache */
+        public long reused;
+        /** Leases that had to open a new connection */
+        public long created;
+        /** Estimated parked connections dropped because they stayed idle longer than ConnectionIdleTimeoutMilliseconds */
+        public long evicted;
+        /** Connections dropped because the response could not be fully drained */
+        public long discarded;
+        /** Leases that had to wait for another request on the same host to finish */
+        public long waited;
+        /** Callers that gave up waiting for a connection */
+        public long timedOut;
+        /** Connections currently serving a request */
+        public int inUse;
+        /** Estimated connections currently parked in the keep-alive cache */
+        public int idle;
+
+        /**
+         * @return the estimated share of leases that reused a parked connection
+         */
+        public double getReuseRate() {
+            return leases == 0 ? 0.0 : (double)reused / leases;
+        }
+
+        private void add(Stats other) {
+            leases += other.leases;
+            reused += other.reused;
+            created += other.created;
+            evicted += other.evicted;
+            discarded += other.discarded;
+            waited += other.waited;
+            timedOut += other.timedOut;
+            inUse += other.inUse;
+            idle += other.idle;
+        }
+    }
+
+    /**
+     * A single granted connection slot, which must be handed back through release()
+     */
+    public static class Lease {
+        private final HostPool hostPool;
+        private final boolean reused;
+
+        private Lease(HostPool hostPool, boolean reused) {
+            this.hostPool = hostPool;
+            this.reused = reused;
+        }
+
+        /**
+         * @return whether a parked connection was expected to serve this lease, going by the pool's estimate
+         */
+        public boolean isReused() {
+            return reused;
+        }
+    }
+
+    private static class HostPool {
+        private final Semaphore permits;
+        private final Lock lock = new ReentrantLock();
+        // Most recently parked connection last, so the warmest socket is reused first
+        private final ArrayDeque<Long> idleSince = new ArrayDeque<Long>();
+        private final AtomicLong leases = new AtomicLong();
+        private final AtomicLong reused = new AtomicLong();
+        private final AtomicLong created = new AtomicLong();
+        private final AtomicLong evicted = new AtomicLong();
+        private final AtomicLong discarded = new AtomicLong();
+        private final AtomicLong waited = new AtomicLong();
+        private final AtomicLong timedOut = new AtomicLong();
+        private final AtomicInteger inUse = new AtomicInteger();
+
+        private HostPool(int maxConnections) {
+            permits = new Semaphore(maxConnections, true);
+        }
+
+        // Callers must hold the lock
+        private void evictIdle(long now, long idleTimeout) {
+            while (!idleSince.isEmpty() && now - idleSince.peekFirst() > idleTimeout) {
+                idleSince.pollFirst();
+                evicted.incrementAndGet();
+            }
+        }
+
+        private Stats snapshot() {
+            Stats stats = new Stats();
+            stats.leases = leases.get();
+            stats.reused = reused.get();
+            stats.created = created.get();
+            stats.evicted = evicted.get();
+            stats.discarded = discarded.get();
+            stats.waited = waited.get();
+            stats.timedOut = timedOut.get();
+            stats.inUse = inUse.get();
+            lock.lock();
+            try {
+                evictIdle(System.currentTimeMillis(), PlayFabSettings.ConnectionIdleTimeoutMilliseconds);
+                stats.idle = idleSince.size();
+            } finally {
+                lock.unlock();
+            }
+            return stats;
+        }
+    }
+
+    private final ConcurrentHashMap<String, HostPool> hosts = new ConcurrentHashMap<String, HostPool>();
+
+    public PlayFabConnectionPool() {
+        // The JDK only parks http.maxConnections sockets per host (5 by default); anything beyond that is closed after use.
+        // The property is shared by every HttpURLConnection in the JVM, so it is only set when the application asks
+        if (PlayFabSettings.SetHttpMaxConnections && System.getProperty("http.maxConnections") == null)
+            System.setProperty("http.maxConnections", Integer.toString(PlayFabSettings.MaxConnectionsPerHost));
+    }
+
+    /**
+     * Waits up to timeoutMilliseconds for a free connection slot on the given host
+     * @return the granted lease, or null if none became available in time
+     */
+    public Lease acquire(String host, long timeoutMilliseconds) throws InterruptedException {
+        return acquire(getHostPool(host, PlayFabSettings.MaxConnectionsPerHost), timeoutMilliseconds);
+    }
+
+    /**
+     * Waits up to timeoutMilliseconds for a free slot among connections to the host set aside for one partition, such as
+     * a bulkhead, so calls in other partitions cannot use them all. Its counters are reported as "host [partition]"
+     * @param maxConnections Connections the partition may use at once. Read when the partition first connects to the host
+     * @return the granted lease, or null if none became available in time
+     */
+    public Lease acquire(String host, String partition, int maxConnections, long timeoutMilliseconds) throws InterruptedException {
+        return acquire(getHostPool(host + " [" + partition + "]", maxConnections), timeoutMilliseconds);
+    }
+
+    private Lease acquire(HostPool hostPool, long timeoutMilliseconds) throws InterruptedException {
+        if (!hostPool.permits.tryAcquire()) {
+            hostPool.waited.incrementAndGet();
+            if (!hostPool.permits.tryAcquire(timeoutMilliseconds, TimeUnit.MILLISECONDS)) {
+                hostPool.timedOut.incrementAndGet();
+                return null;
+            }
+        }
+
+        boolean reused;
+        hostPool.lock.lock();
+        try {
+            hostPool.evictIdle(System.currentTimeMillis(), PlayFabSettings.ConnectionIdleTimeoutMilliseconds);
+            reused = hostPool.idleSince.pollLast() != null;
+        } finally {
+            hostPool.lock.unlock();
+        }
+
+        hostPool.leases.incrementAndGet();
+        hostPool.inUse.incrementAndGet();
+        (reused ? hostPool.reused : hostPool.created).incrementAndGet();
+        return new Lease(hostPool, reused);
+    }
+
+    /**
+     * Hands a lease back to the pool
+     * @param keepAlive true if the response was fully drained and the socket went back to the keep-alive cache
+     */
+    public void release(Lease lease, boolean keepAlive) {
+        HostPool hostPool = lease.hostPool;
+        if (keepAlive) {
+            hostPool.lock.lock();
+            try {
+                hostPool.idleSince.addLast(System.currentTimeMillis());
+            } finally {
+                hostPool.lock.unlock();
+            }
+        } else {
+            hostPool.discarded.incrementAndGet();
+        }
+        hostPool.inUse.decrementAndGet();
+        hostPool.permits.release();
+    }
+
+    /**
+     * @return counters summed over every host this pool has connected to
+     */
+    public Stats getStats() {
+        Stats total = new Stats();
+        for (HostPool hostPool : hosts.values())
+            total.add(hostPool.snapshot());
+        return total;
+    }
+
+    /**
+     * @return counters for each host this pool has connected to
+     */
+    public Map<String, Stats> getHostStats() {
+        Map<String, Stats> output = new HashMap<String, Stats>();
+        for (Map.Entry<String, HostPool> pair : hosts.entrySet())
+            output.put(pair.getKey(), pair.getValue().snapshot());
+        return output;
+    }
+
+    private HostPool getHostPool(String host, int maxConnections) {
+        HostPool hostPool = hosts.get(host);
+        if (hostPool == null) {
+            HostPool created = new HostPool(Math.max(1, maxConnections));
+            hostPool = hosts.putIfAbsent(host, created);
+            if (hostPool == null)
+                hostPool = created;
+        }
+        return hostPool;
+    }
+}
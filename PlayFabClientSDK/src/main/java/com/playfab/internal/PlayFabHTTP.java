@@ -4,7 +4,12 @@ import java.util.*;
 import java.util.concurrent.*;
 import java.net.*;
 import java.io.*;
+import java.nio.charset.Charset;
+import java.util.zip.ZipException;
 import com.google.gson.*;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.MalformedJsonException;
 
 import com.playfab.PlayFabSettings;
 import com.playfab.PlayFabErrors.PlayFabError;
@@ -13,70 +18,195 @@ import com.playfab.PlayFabErrors.PlayFabJsonError;
 import com.playfab.PlayFabErrors.PlayFabJsonSuccess;
 
 public class PlayFabHTTP {
-    private static final int timeoutInMilliseconds = 60000;
-    private static Gson gson = new GsonBuilder().setDateFormat("yyyy-MM-dd'T'HH:mm:ss.SSS'Z'").create();
+    private static final PlayFabHttpUrlConnectionTransport defaultTransport = new PlayFabHttpUrlConnectionTransport();
+    private static final Charset UTF8 = Charset.forName("UTF-8");
+    private static final PlayFabCompression compression = new PlayFabCompression();
+    private static final PlayFabRetryPolicy retryPolicy = new PlayFabRetryPolicy();
+    private static final PlayFabConcurrencyLimiter concurrencyLimiter = new PlayFabConcurrencyLimiter();
+    private static final ConcurrentHashMap<String, PlayFabCircuitBreaker> circuitBreakers = new ConcurrentHashMap<String, PlayFabCircuitBreaker>();
 
     public static FutureTask<Object> doPost(final String url, final Object request, final String authType, final String authKey) {
         return new FutureTask<Object>(new Callable<Object>() {
             public Object call() throws Exception {
-                return doPostPrivate(url, request, authType, authKey);
+                return doPostPrivate(url, request, authType, authKey, null);
             }
         });
     }
 
-    private static Object doPostPrivate(String url, Object request, String authType, String authKey) throws Exception {
-        String bodyString = null;
+    /**
+     * Posts the request and deserializes a successful response straight from the connection
+     * @param resultType Class of the data member of the success envelope
+     * @return Task which will return either a PlayFabError or a PlayFabJsonSuccess holding a resultType instance
+     */
+    public static FutureTask<Object> doPost(final String url, final Object request, final String authType, final String authKey, final Class<?> resultType) {
+        return new FutureTask<Object>(new Callable<Object>() {
+            public Object call() throws Exception {
+                return doPostPrivate(url, request, authType, authKey, resultType);
+            }
+        });
+    }
+
+    private static Object doPostPrivate(final String url, final Object request, final String authType, final String authKey, final Class<?> resultType) throws Exception {
+        final String endpoint = getEndpoint(url);
+        PlayFabResponseCache cache = PlayFabSettings.ResponseCache;
+        final PlayFabRequestCoalescer coalescer = PlayFabSettings.RequestCoalescer;
+        boolean cached = cache != null && cache.covers(endpoint);
+        boolean coalesced = coalescer != null && coalescer.covers(endpoint);
+        if (!cached && !coalesced)
+            return send(url, request, request, authType, authKey, resultType, endpoint);
+
+        // Serialized once, both to recognise identical calls and as the body of the one that is sent
+        final String body = toJson(request);
+        final String identity = url + '\n' + authType + '\n' + authKey + '\n' + body;
+        Callable<Object> load = new Callable<Object>() {
+            public Object call() throws Exception {
+                return send(url, request, body, authType, authKey, resultType, endpoint);
+            }
+        };
+        if (coalesced) {
+            final Callable<Object> sent = load;
+            load = new Callable<Object>() {
+                public Object call() throws Exception {
+                    return coalescer.call(endpoint, identity, sent);
+                }
+            };
+        }
+        return cached ? cache.get(endpoint, identity, load) : load.call();
+    }
 
-        if(request == null) {
-            bodyString = "{}";
+    /**
+     * @param request The request model, for the rate limiter to find its entity
+     * @param body What to post: the request model, or its serialized form
+     */
+    private static Object send(String url, Object request, Object body, String authType, String authKey, Class<?> resultType, String endpoint) throws Exception {
+        PlayFabRetryPolicy.Call call = retryPolicy.begin(endpoint);
+        while (true) {
+            Object result = attempt(url, request, body, authType, authKey, resultType, endpoint, call);
+            if (!(result instanceof PlayFabError) || !call.retry((PlayFabError) result)) {
+                call.finished(!(result instanceof PlayFabError));
+                return result;
+            }
         }
-        else if (request instanceof String) {
-            bodyString = (String)request;
+    }
+
+    /**
+     * Sends the call once, if the circuit breaker, rate limiter, bulkheads and concurrency limiter all let it through.
+     * A call they stop is failed locally, and not retried. The circuit breaker goes first, so an open circuit fails calls
+     * at once, without them waiting for or spending a token or a slot
+     */
+    private static Object attempt(String url, Object request, Object body, String authType, String authKey, Class<?> resultType, String endpoint, PlayFabRetryPolicy.Call call) throws Exception {
+        PlayFabCircuitBreaker breaker = PlayFabSettings.CircuitBreakerEnabled ? getCircuitBreaker(endpoint) : null;
+        PlayFabCircuitBreaker.Permit permit = breaker != null ? breaker.tryAcquire() : null;
+        if (breaker != null && permit == null) {
+            call.notSent();
+            int retryAfterSeconds = (int)((breaker.getRemainingOpenMilliseconds() + 999) / 1000);
+            return GeneratePfError(503, PlayFabErrorCode.ServiceUnavailable, "Circuit open for " + breaker.getName() + ", call not sent", retryAfterSeconds, null);
         }
-        else {
-            bodyString = gson.toJson(request);
+
+        // Until the call is sent, a stop by a later guard gives the permit back, so a probe is not wasted on it
+        boolean sent = false;
+        try {
+            PlayFabRateLimiter limiter = PlayFabSettings.RateLimiter;
+            long throttledMilliseconds = limiter != null ? limiter.acquire(endpoint, request) : 0;
+            if (throttledMilliseconds > 0) {
+                call.notSent();
+                int retryAfterSeconds = (int)((throttledMilliseconds + 999) / 1000);
+                return GeneratePfError(429, PlayFabErrorCode.APIClientRequestRateLimitExceeded, "Rate limit reached for " + endpoint + ", call not sent", retryAfterSeconds, null);
+            }
+
+            PlayFabBulkheads bulkheads = PlayFabSettings.Bulkheads;
+            PlayFabBulkheads.Bulkhead bulkhead = bulkheads != null ? bulkheads.acquire(endpoint) : null;
+            if (bulkheads != null && bulkhead == null) {
+                call.notSent();
+                return GeneratePfError(429, PlayFabErrorCode.APIConcurrentRequestLimitExceeded, "Bulkhead for " + endpoint + " is full, call not sent", null, null);
+            }
+
+            PlayFabBulkheads.Bulkhead outer = PlayFabBulkheads.enter(bulkhead);
+            try {
+                PlayFabConcurrencyLimiter.Permit slot = null;
+                if (PlayFabSettings.AdaptiveConcurrency) {
+                    slot = concurrencyLimiter.acquire(endpoint);
+                    if (slot == null) {
+                        call.notSent();
+                        return GeneratePfError(429, PlayFabErrorCode.APIConcurrentRequestLimitExceeded, "Too many calls in flight to " + endpoint + ", call not sent", null, null);
+                    }
+                }
+
+                sent = true;
+                Object result = null;
+                try {
+                    result = postOnce(url, body, authType, authKey, resultType, endpoint, call);
+                } finally {
+                    boolean failed = result == null || (result instanceof PlayFabError && PlayFabRetryPolicy.isServiceFailure((PlayFabError) result));
+                    if (permit != null)
+                        breaker.record(permit, failed);
+                    if (slot != null)
+                        concurrencyLimiter.release(slot, failed);
+                }
+                return result;
+            } finally {
+                PlayFabBulkheads.exit(outer);
+                if (bulkhead != null)
+                    bulkheads.release(bulkhead);
+            }
+        } finally {
+            if (!sent && permit != null)
+                breaker.cancel(permit);
         }
+    }
 
-        HttpURLConnection con = (HttpURLConnection) new URL(url).openConnection();
-        con.setConnectTimeout(timeoutInMilliseconds);
-        con.setRequestMethod("POST");
-        con.setRequestProperty("Content-Type", "application/json");
+    private static Object postOnce(String url, Object request, String authType, String authKey, Class<?> resultType, String endpoint, PlayFabRetryPolicy.Call call) throws Exception {
+        Map<String, String> headers = new LinkedHashMap<String, String>();
+        headers.put("Content-Type", "application/json");
         if(authType != null) {
-            con.setRequestProperty(authType, authKey);
+            headers.put(authType, authKey);
         }
-        con.setRequestProperty("X-PlayFabSDK", PlayFabSettings.SdkVersionString);
-        con.setDoOutput(true);
-        con.setDoInput(true);
+        headers.put("X-PlayFabSDK", PlayFabSettings.SdkVersionString);
+        headers.put("Accept-Encoding", PlayFabCompression.ACCEPT_ENCODING);
 
         // Make the API-Call and get the normal response httpCode
-        int httpCode = 503; // default to SERVICE_UNAVAILABLE
+        PlayFabTransport.Response response = null;
         try {
-            OutputStreamWriter writer = new OutputStreamWriter(con.getOutputStream());
-            writer.write(bodyString);
-            writer.close();
-            httpCode = con.getResponseCode();
+            response = getTransport().post(url, headers, compression.encode(endpoint, newRequestBody(request)));
         } catch(Exception e) {
-            return GeneratePfError(httpCode, PlayFabErrorCode.ServiceUnavailable, "Failed to post to server: " + url, null, null);
+            call.transportFailed(e);
+            return GeneratePfError(503, PlayFabErrorCode.ServiceUnavailable, "Failed to post to server: " + url, null, null);
         }
+        int httpCode = response.httpCode;
 
-        // Get the response string
+        // Successful responses are parsed as they arrive; error bodies are small, so they are read whole to keep them in the error message
         String responseString = null;
         try {
-            responseString = receive(con.getInputStream());
-        } catch(IOException e) {
-            responseString = receive(con.getErrorStream());
+            InputStream body = compression.decode(endpoint, response);
+            if (resultType != null && httpCode == 200 && body != null) {
+                Object result = receiveResult(body, resultType);
+                // The server answered, so an answer that could not be read still means the call was applied
+                if (result instanceof PlayFabError && ((PlayFabError) result).httpCode == 200)
+                    call.responseUnreadable();
+                return result;
+            }
+            if (body != null)
+                responseString = receive(body);
+        } catch (ZipException e) {
+            call.responseUnreadable();
+            return GeneratePfError(httpCode, PlayFabErrorCode.ServiceUnavailable, "Server response could not be decoded: " + e.getMessage(), null, null);
+        } finally {
+            response.close();
         }
 
         // Check for normal error results
         if(httpCode != 200 || responseString == null || responseString.isEmpty()) {
-            if(responseString == null || responseString.isEmpty() || httpCode == 404 )
+            if(responseString == null || responseString.isEmpty() || httpCode == 404 ) {
+                if (httpCode == 200)
+                    call.responseUnreadable();
                 return GeneratePfError(httpCode, PlayFabErrorCode.ServiceUnavailable, "Empty server response", null, null);
+            }
 
             PlayFabJsonError errorResult = null;
             try {
-                errorResult = gson.fromJson(responseString, PlayFabJsonError.class);
+                errorResult = PlayFabJson.fromJson(responseString, PlayFabJsonError.class);
             } catch(Exception e) {
-                return GeneratePfError(httpCode, PlayFabErrorCode.JsonParseError, "Server response not proper json :" + responseString, errorResult.retryAfterSeconds, null);
+                return GeneratePfError(httpCode, PlayFabErrorCode.JsonParseError, "Server response not proper json :" + responseString, null, null);
             }
 
             httpCode = errorResult.code;
@@ -86,14 +216,228 @@ public class PlayFabHTTP {
         return responseString;
     }
 
+    private static String toJson(Object request) throws IOException {
+        if (request == null || request instanceof String)
+            return request == null ? "{}" : (String)request;
+        StringWriter out = new StringWriter();
+        PlayFabJson.toJson(request, out);
+        return out.toString();
+    }
+
+    /**
+     * Request models are serialized straight onto the connection as UTF-8 and sent chunked; pre-serialized strings are sent
+     * with a fixed length
+     */
+    private static PlayFabTransport.RequestBody newRequestBody(final Object request) {
+        if (request == null || request instanceof String) {
+            final byte[] bytes = (request == null ? "{}" : (String)request).getBytes(UTF8);
+            return new PlayFabTransport.RequestBody() {
+                public long getContentLength() {
+                    return bytes.length;
+                }
+
+                public String getContentEncoding() {
+                    return null;
+                }
+
+                public void writeTo(OutputStream out) throws IOException {
+                    out.write(bytes);
+                    out.flush();
+                }
+            };
+        }
+
+        return new PlayFabTransport.RequestBody() {
+            public long getContentLength() {
+                return -1;
+            }
+
+            public String getContentEncoding() {
+                return null;
+            }
+
+            public void writeTo(OutputStream out) throws IOException {
+                PlayFabJson.toJson(request, new PlayFabUtf8Writer(out));
+            }
+        };
+    }
+
+    /**
+     * Reads a PlayFab response envelope token by token, deserializing the data member directly into resultType.
+     * An error envelope is recognised by its errorCode member, so nothing is buffered either way.
+     * @return a PlayFabJsonSuccess, or a PlayFabError
+     */
+    @SuppressWarnings("unchecked")
+    public static Object receiveResult(InputStream in, Class<?> resultType) throws IOException {
+        Reader reader = new PlayFabUtf8Reader(in);
+        JsonReader json = new JsonReader(reader);
+        json.setLenient(true);
+
+        PlayFabJsonSuccess<Object> success = new PlayFabJsonSuccess<Object>();
+        PlayFabJsonError error = null;
+        boolean started = false;
+        try {
+            json.beginObject();
+            started = true;
+            while (json.hasNext()) {
+                String name = json.nextName();
+                if (json.peek() == JsonToken.NULL) {
+                    json.skipValue();
+                } else if ("code".equals(name)) {
+                    success.code = json.nextInt();
+                } else if ("status".equals(name)) {
+                    success.status = json.nextString();
+                } else if ("data".equals(name)) {
+                    success.data = ((TypeAdapter<Object>) PlayFabJson.getAdapter(resultType)).read(json);
+                } else if ("errorCode".equals(name)) {
+                    if (error == null) error = new PlayFabJsonError();
+                    error.errorCode = json.nextInt();
+                } else if ("error".equals(name)) {
+                    if (error == null) error = new PlayFabJsonError();
+                    error.error = json.nextString();
+                } else if ("errorMessage".equals(name)) {
+                    if (error == null) error = new PlayFabJsonError();
+                    error.errorMessage = json.nextString();
+                } else if ("errorDetails".equals(name)) {
+                    if (error == null) error = new PlayFabJsonError();
+                    error.errorDetails = PlayFabJson.readErrorDetails(json);
+                } else if ("retryAfterSeconds".equals(name)) {
+                    if (error == null) error = new PlayFabJsonError();
+                    error.retryAfterSeconds = json.nextInt();
+                } else {
+                    json.skipValue();
+                }
+            }
+            json.endObject();
+
+            // Drain anything after the envelope, so the connection can be reused
+            char[] rest = new char[64];
+            while (reader.read(rest) != -1) { }
+        } catch (EOFException e) {
+            if (!started)
+                return GeneratePfError(200, PlayFabErrorCode.ServiceUnavailable, "Empty server response", null, null);
+            return GeneratePfError(200, PlayFabErrorCode.JsonParseError, "Server response not proper json: truncated", null, null);
+        } catch (MalformedJsonException e) {
+            return GeneratePfError(200, PlayFabErrorCode.JsonParseError, "Server response not proper json: " + e.getMessage(), null, null);
+        } catch (IllegalStateException e) {
+            return GeneratePfError(200, PlayFabErrorCode.JsonParseError, "Server response not proper json: " + e.getMessage(), null, null);
+        } catch (JsonParseException e) {
+            return GeneratePfError(200, PlayFabErrorCode.JsonParseError, "Server response not proper json: " + e.getMessage(), null, null);
+        } catch (NumberFormatException e) {
+            return GeneratePfError(200, PlayFabErrorCode.JsonParseError, "Server response not proper json: " + e.getMessage(), null, null);
+        }
+
+        if (error != null)
+            return GeneratePfError(success.code, PlayFabErrorCode.getFromCode(error.errorCode), error.errorMessage, error.retryAfterSeconds, error.errorDetails);
+        return success;
+    }
+
+    /**
+     * @return request and response byte counts for each endpoint, showing the effect of compression
+     */
+    public static Map<String, PlayFabCompression.Stats> getCompressionStats() {
+        return compression.getStats();
+    }
+
+    /**
+     * @return the api path of a request url, such as /Server/GetUserData
+     */
+    public static String getEndpoint(String url) {
+        int start = url.indexOf("://");
+        start = start < 0 ? 0 : url.indexOf('/', start + 3);
+        if (start < 0)
+            return "/";
+        int end = url.indexOf('?', start);
+        return end < 0 ? url.substring(start) : url.substring(start, end);
+    }
+
+    /**
+     * @return the api family of an endpoint, its first path segment, such as /Server for /Server/GetUserData
+     */
+    public static String getApiFamily(String endpoint) {
+        int end = endpoint.indexOf('/', 1);
+        return end < 0 ? endpoint : endpoint.substring(0, end);
+    }
+
+    /**
+     * @return the retry policy applied to every call, holding the retry counts and budgets
+     */
+    public static PlayFabRetryPolicy getRetryPolicy() {
+        return retryPolicy;
+    }
+
+    /**
+     * @return the adaptive limiter of calls in flight to each endpoint, used when PlayFabSettings.AdaptiveConcurrency is on
+     */
+    public static PlayFabConcurrencyLimiter getConcurrencyLimiter() {
+        return concurrencyLimiter;
+    }
+
+    /**
+     * @return the circuit breaker guarding an endpoint: its own, or its API family's, as PlayFabSettings.CircuitBreakerPerEndpoint selects
+     */
+    public static PlayFabCircuitBreaker getCircuitBreaker(String endpoint) {
+        String name = PlayFabSettings.CircuitBreakerPerEndpoint ? endpoint : getApiFamily(endpoint);
+        PlayFabCircuitBreaker breaker = circuitBreakers.get(name);
+        if (breaker == null) {
+            PlayFabCircuitBreaker created = new PlayFabCircuitBreaker(name);
+            breaker = circuitBreakers.putIfAbsent(name, created);
+            if (breaker == null)
+                breaker = created;
+        }
+        return breaker;
+    }
+
+    /**
+     * @return the state and counts of each circuit breaker, by the endpoint or API family it guards
+     */
+    public static Map<String, PlayFabCircuitBreaker.Stats> getCircuitBreakerStats() {
+        Map<String, PlayFabCircuitBreaker.Stats> output = new HashMap<String, PlayFabCircuitBreaker.Stats>();
+        for (Map.Entry<String, PlayFabCircuitBreaker> pair : circuitBreakers.entrySet())
+            output.put(pair.getKey(), pair.getValue().getStats());
+        return output;
+    }
+
+    /**
+     * Closes every circuit, forgetting the calls they have counted
+     */
+    public static void resetCircuitBreakers() {
+        circuitBreakers.clear();
+    }
+
+    /**
+     * @return the transport selected by PlayFabSettings.Transport, or the default HttpURLConnection transport
+     */
+    public static PlayFabTransport getTransport() {
+        PlayFabTransport transport = PlayFabSettings.Transport;
+        return transport != null ? transport : defaultTransport;
+    }
+
+    /**
+     * @return reuse and occupancy counters for the keep-alive connection pool of the default transport
+     */
+    public static PlayFabConnectionPool.Stats getConnectionPoolStats() {
+        return defaultTransport.getConnectionPool().getStats();
+    }
+
+    /**
+     * @return reuse and occupancy counters for each PlayFab host contacted through the default transport
+     */
+    public static Map<String, PlayFabConnectionPool.Stats> getConnectionPoolHostStats() {
+        return defaultTransport.getConnectionPool().getHostStats();
+    }
+
     public static String receive(InputStream in) throws IOException {
         StringBuilder recieved = new StringBuilder();
-        BufferedReader reader = new BufferedReader(new InputStreamReader(in));
+        Reader reader = new PlayFabUtf8Reader(in);
 
-        String line = null;
-        while ((line = reader.readLine()) != null) {
-            recieved.append(line);
-            recieved.append('\n');
+        try {
+            char[] buffer = new char[1024];
+            int count;
+            while ((count = reader.read(buffer)) != -1)
+                recieved.append(buffer, 0, count);
+        } finally {
+            reader.close();
         }
 
         return recieved.toString();
@@ -0,0 +1,26 @@
+package com.playfab.internal;
+
+import java.io.*;
+import java.util.*;
+
+/**
+ * HTTP/2 transport that multiplexes concurrent API calls over a few connections per host.
+ *
+ * This is the Java 7 build of the class, which has no HTTP/2 client available and falls back to
+ * PlayFabHttpUrlConnectionTransport. On Java 11 and newer the multi-release jar supplies the real implementation from
+ * src/main/java11, built on java.net.http.HttpClient.
+ */
+public class PlayFabHttp2Transport implements PlayFabTransport {
+    private final PlayFabTransport fallback = new PlayFabHttpUrlConnectionTransport();
+
+    /**
+     * @return true if this runtime supports HTTP/2, false if calls fall back to HTTP/1.1
+     */
+    public static boolean isSupported() {
+        return false;
+    }
+
+    public Response post(String url, Map<String, String> headers, RequestBody body) throws IOException {
+        return fallback.post(url, headers, body);
+    }
+}
@@ -0,0 +1,132 @@
+package com.playfab.internal;
+
+import java.io.*;
+import java.net.*;
+import java.util.*;
+
+import com.playfab.PlayFabSettings;
+
+/**
+ * Default transport, built on java.net.HttpURLConnection with a keep-alive PlayFabConnectionPool. Calls inside a bulkhead
+ * with its own connections take them from that bulkhead's share of the pool
+ */
+public class PlayFabHttpUrlConnectionTransport implements PlayFabTransport {
+    private final PlayFabConnectionPool connectionPool = new PlayFabConnectionPool();
+
+    public PlayFabConnectionPool getConnectionPool() {
+        return connectionPool;
+    }
+
+    public Response post(String url, Map<String, String> headers, RequestBody body) throws IOException {
+        URL target = new URL(url);
+        PlayFabConnectionPool.Lease lease;
+        try {
+            String host = target.getProtocol() + "://" + target.getAuthority();
+            PlayFabBulkheads.Bulkhead bulkhead = PlayFabBulkheads.current();
+            if (bulkhead != null && bulkhead.getMaxConnections() > 0)
+                lease = connectionPool.acquire(host, bulkhead.getName(), bulkhead.getMaxConnections(), PlayFabSettings.ConnectTimeoutMilliseconds);
+            else
+                lease = connectionPool.acquire(host, PlayFabSettings.ConnectTimeoutMilliseconds);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Interrupted while waiting for a free connection to: " + url);
+        }
+        if (lease == null)
+            throw new SocketTimeoutException("Timed out waiting for a free connection to: " + url);
+
+        InputStream responseStream = null;
+        try {
+            final HttpURLConnection con = (HttpURLConnection) target.openConnection();
+            PlayFabAbortScope.register(new Closeable() {
+                public void close() {
+                    con.disconnect();
+                }
+            });
+            con.setConnectTimeout(PlayFabSettings.ConnectTimeoutMilliseconds);
+            con.setReadTimeout(PlayFabSettings.ReadTimeoutMilliseconds);
+            con.setRequestMethod("POST");
+            for (Map.Entry<String, String> header : headers.entrySet())
+                con.setRequestProperty(header.getKey(), header.getValue());
+            if (body.getContentEncoding() != null)
+                con.setRequestProperty("Content-Encoding", body.getContentEncoding());
+            con.setDoOutput(true);
+            con.setDoInput(true);
+
+            // Streaming mode sends the body as it is written, instead of HttpURLConnection buffering all of it first
+            long contentLength = body.getContentLength();
+            if (contentLength >= 0)
+                con.setFixedLengthStreamingMode(contentLength);
+            else
+                con.setChunkedStreamingMode(0);
+
+            OutputStream out = con.getOutputStream();
+            body.writeTo(out);
+            out.close();
+            int httpCode = con.getResponseCode();
+
+            try {
+                responseStream = con.getInputStream();
+            } catch (IOException e) {
+                responseStream = con.getErrorStream();
+            }
+
+            Map<String, String> responseHeaders = new HashMap<String, String>();
+            for (Map.Entry<String, List<String>> header : con.getHeaderFields().entrySet())
+                if (header.getKey() != null && !header.getValue().isEmpty())
+                    responseHeaders.put(header.getKey().toLowerCase(Locale.ROOT), header.getValue().get(0));
+
+            if (responseStream != null)
+                responseStream = new LeasedInputStream(responseStream, lease);
+            return new Response(httpCode, responseHeaders, responseStream);
+        } finally {
+            // With a body, the lease is handed back when the caller closes it
+            if (responseStream == null) {
+                PlayFabAbortScope.unregister();
+                connectionPool.release(lease, false);
+            }
+        }
+    }
+
+    /**
+     * Returns the connection lease once the body is closed, and only marks the socket as kept-alive if it was read to the end
+     */
+    private class LeasedInputStream extends FilterInputStream {
+        private final PlayFabConnectionPool.Lease lease;
+        private boolean drained = false;
+        private boolean released = false;
+
+        private LeasedInputStream(InputStream in, PlayFabConnectionPool.Lease lease) {
+            super(in);
+            this.lease = lease;
+        }
+
+        @Override
+        public int read() throws IOException {
+            int value = super.read();
+            if (value == -1)
+                drained = true;
+            return value;
+        }
+
+        @Override
+        public int read(byte[] buffer, int offset, int length) throws IOException {
+            int count = super.read(buffer, offset, length);
+            if (count == -1)
+                drained = true;
+            return count;
+        }
+
+        @Override
+        public void close() throws IOException {
+            try {
+                super.close();
+            } finally {
+                PlayFabAbortScope.unregister();
+                if (!released) {
+                    released = true;
+                    connectionPool.release(lease, drained);
+                }
+            }
+        }
+    }
+}
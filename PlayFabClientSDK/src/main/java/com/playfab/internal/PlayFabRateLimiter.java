@@ -0,0 +1,308 @@
+package com.playfab.internal;
+
+import java.lang.reflect.Field;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.*;
+
+/**
+ * Paces calls below PlayFab's throttling limits, so a call that would be throttled waits or fails locally instead of
+ * spending a round trip on APIClientRequestRateLimitExceeded. Enable it with PlayFabSettings.RateLimiter.
+ *
+ * Limits apply to an endpoint, such as /Server/UpdateUserData, or to a whole API family, such as /Server. A per-entity
+ * limit keeps a separate allowance for each player or entity a request is about, read from its PlayFabId or Entity
+ * member; requests naming neither, such as most client calls, which are about the caller, are not counted by it.
+ *
+ * Each allowance is a token bucket of burst calls refilled at perSecond, held as a single theoretical arrival time so
+ * taking a token is one compare-and-set. A call that finds a bucket empty reserves the next token and sleeps until it
+ * is due, in arrival order, unless that is longer than the limiter's maximum wait, in which case it is rejected.
+ */
+public class PlayFabRateLimiter {
+    private static final int MAX_TRACKED_ENTITIES = 10000;
+    // Entities tracked beyond those still refilling before the next sweep, so each sweep is paid for by this many inserts
+    private static final int SWEEP_SLACK = MAX_TRACKED_ENTITIES / 4;
+
+    /**
+     * Counts for one limit, since it was added
+     */
+    public static class Stats {
+        public String scope;
+        public boolean perEntity;
+        public double perSecond;
+        public int burst;
+        public double available; // Tokens left in the bucket, or in a fresh entity's bucket
+        public int trackedEntities; // Entities with a partly spent allowance
+        public long permitted; // Calls let through, at once or after waiting
+        public long delayed; // Calls that had to wait for a token
+        public long rejected; // Calls failed locally because their wait would have been too long
+        public long waitMilliseconds; // Total time calls waited
+    }
+
+    private static class Bucket {
+        private final AtomicLong arrival;
+
+        private Bucket(long now) {
+            arrival = new AtomicLong(now);
+        }
+    }
+
+    private static class Limit {
+        private final String scope;
+        private final boolean perEntity;
+        private final double perSecond;
+        private final int burst;
+        private final long intervalNanos;
+        private final long burstNanos;
+        private final Bucket shared = new Bucket(System.nanoTime());
+        private final ConcurrentHashMap<String, Bucket> entities = new ConcurrentHashMap<String, Bucket>();
+        private final AtomicInteger nextSweep = new AtomicInteger(MAX_TRACKED_ENTITIES); // Entity count that starts a sweep
+
+        private final AtomicLong permitted = new AtomicLong();
+        private final AtomicLong delayed = new AtomicLong();
+        private final AtomicLong rejected = new AtomicLong();
+        private final AtomicLong waitNanos = new AtomicLong();
+
+        private Limit(String scope, boolean perEntity, double perSecond, int burst) {
+            if (perSecond <= 0 || burst < 1)
+                throw new IllegalArgumentException("A rate limit needs a positive rate and a burst of at least 1");
+            this.scope = scope;
+            this.perEntity = perEntity;
+            this.perSecond = perSecond;
+            this.burst = burst;
+            this.intervalNanos = Math.max(1, (long)(TimeUnit.SECONDS.toNanos(1) / perSecond));
+            this.burstNanos = intervalNanos * burst;
+        }
+
+        private Bucket getBucket(String entity, long now) {
+            if (!perEntity)
+                return shared;
+            Bucket bucket = entities.get(entity);
+            if (bucket == null) {
+                if (entities.size() >= nextSweep.get())
+                    forgetRefilled(now);
+                Bucket created = new Bucket(now);
+                bucket = entities.putIfAbsent(entity, created);
+                if (bucket == null)
+                    bucket = created;
+            }
+            return bucket;
+        }
+
+        /**
+         * Drops the buckets that have refilled completely, as they are the same as a new one. One caller sweeps while the
+         * others carry on, and the next sweep waits until SWEEP_SLACK more entities are tracked than this one left
+         */
+        private void forgetRefilled(long now) {
+            int threshold = nextSweep.get();
+            if (threshold == Integer.MAX_VALUE || !nextSweep.compareAndSet(threshold, Integer.MAX_VALUE))
+                return;
+            for (Iterator<Bucket> buckets = entities.values().iterator(); buckets.hasNext(); )
+                if (buckets.next().arrival.get() - now <= 0)
+                    buckets.remove();
+            nextSweep.set(Math.max(MAX_TRACKED_ENTITIES, entities.size() + SWEEP_SLACK));
+        }
+
+        /**
+         * Takes the next token, which may not be due yet
+         * @return nanoseconds until the token is due, or -1 if that is longer than maxWaitNanos and nothing was taken
+         */
+        private long reserve(Bucket bucket, long now, long maxWaitNanos) {
+            while (true) {
+                long arrival = bucket.arrival.get();
+                long next = (arrival - now > 0 ? arrival : now) + intervalNanos;
+                long wait = Math.max(0, next - now - burstNanos);
+                if (wait > maxWaitNanos)
+                    return -1;
+                if (bucket.arrival.compareAndSet(arrival, next))
+                    return wait;
+            }
+        }
+
+        /**
+         * @return nanoseconds until the bucket would have a token again
+         */
+        private long untilAvailable(Bucket bucket, long now) {
+            return Math.max(0, bucket.arrival.get() + intervalNanos - now - burstNanos);
+        }
+
+        private void refund(Bucket bucket) {
+            bucket.arrival.addAndGet(-intervalNanos);
+        }
+    }
+
+    private final long maxWaitNanos;
+    private final ConcurrentHashMap<String, Limit> limits = new ConcurrentHashMap<String, Limit>();
+    private final ConcurrentHashMap<String, Limit> entityLimits = new ConcurrentHashMap<String, Limit>();
+    private final ConcurrentHashMap<Class<?>, Field[]> entityFields = new ConcurrentHashMap<Class<?>, Field[]>();
+    private final ConcurrentHashMap<Class<?>, Field[]> entityKeyFields = new ConcurrentHashMap<Class<?>, Field[]>();
+
+    /**
+     * @param maxWaitMilliseconds Longest a call waits for a token. Calls that would wait longer are rejected; 0 rejects
+     *                            every call that finds its bucket empty
+     */
+    public PlayFabRateLimiter(long maxWaitMilliseconds) {
+        this.maxWaitNanos = TimeUnit.MILLISECONDS.toNanos(Math.max(0, maxWaitMilliseconds));
+    }
+
+    /**
+     * Limits all calls to an endpoint or API family together, replacing any limit it had
+     * @param scope An endpoint, such as /Server/UpdateUserData, or an API family, such as /Server
+     * @param perSecond Calls allowed each second, on average
+     * @param burst Calls allowed at once, after a quiet period
+     */
+    public void addLimit(String scope, double perSecond, int burst) {
+        limits.put(scope, new Limit(scope, false, perSecond, burst));
+    }
+
+    /**
+     * Limits the calls about each player or entity to an endpoint or API family, replacing any limit it had
+     * @param scope An endpoint, such as /Server/UpdateUserData, or an API family, such as /Server
+     * @param perSecond Calls allowed each second for one entity, on average
+     * @param burst Calls allowed at once for one entity, after a quiet period
+     */
+    public void addEntityLimit(String scope, double perSecond, int burst) {
+        entityLimits.put(scope, new Limit(scope, true, perSecond, burst));
+    }
+
+    public void removeLimit(String scope) {
+        limits.remove(scope);
+    }
+
+    public void removeEntityLimit(String scope) {
+        entityLimits.remove(scope);
+    }
+
+    /**
+     * Takes a token from every limit covering a call, waiting for one if need be
+     * @param endpoint Api path of the call, such as /Server/UpdateUserData
+     * @param request The request model, read for its PlayFabId or Entity by per-entity limits
+     * @return 0 if the call may be sent, or the milliseconds it would have had to wait if it is rejected
+     */
+    public long acquire(String endpoint, Object request) throws InterruptedException {
+        String family = PlayFabHTTP.getApiFamily(endpoint);
+        Limit[] covering = new Limit[4];
+        covering[0] = limits.get(endpoint);
+        covering[1] = family.equals(endpoint) ? null : limits.get(family);
+        if (!entityLimits.isEmpty()) {
+            covering[2] = entityLimits.get(endpoint);
+            covering[3] = family.equals(endpoint) ? null : entityLimits.get(family);
+        }
+
+        String entity = covering[2] != null || covering[3] != null ? getEntity(request) : null;
+        long now = System.nanoTime();
+        Bucket[] taken = new Bucket[covering.length];
+        long wait = 0;
+        for (int i = 0; i < covering.length; i++) {
+            Limit limit = covering[i];
+            if (limit == null || (limit.perEntity && entity == null))
+                continue;
+
+            Bucket bucket = limit.getBucket(entity, now);
+            long reserved = limit.reserve(bucket, now, maxWaitNanos);
+            if (reserved < 0) {
+                limit.rejected.incrementAndGet();
+                for (int j = 0; j < i; j++)
+                    if (taken[j] != null)
+                        covering[j].refund(taken[j]);
+                return Math.max(1, TimeUnit.NANOSECONDS.toMillis(limit.untilAvailable(bucket, now)));
+            }
+            taken[i] = bucket;
+            wait = Math.max(wait, reserved);
+        }
+
+        for (int i = 0; i < covering.length; i++) {
+            if (taken[i] == null)
+                continue;
+            covering[i].permitted.incrementAndGet();
+            if (wait > 0) {
+                covering[i].delayed.incrementAndGet();
+                covering[i].waitNanos.addAndGet(wait);
+            }
+        }
+        if (wait > 0)
+            TimeUnit.NANOSECONDS.sleep(wait);
+        return 0;
+    }
+
+    /**
+     * @return the counts of every limit
+     */
+    public List<Stats> getStats() {
+        long now = System.nanoTime();
+        List<Stats> output = new ArrayList<Stats>();
+        List<Limit> all = new ArrayList<Limit>(limits.values());
+        all.addAll(entityLimits.values());
+        for (Limit limit : all) {
+            Stats stats = new Stats();
+            stats.scope = limit.scope;
+            stats.perEntity = limit.perEntity;
+            stats.perSecond = limit.perSecond;
+            stats.burst = limit.burst;
+            long spent = limit.perEntity ? 0 : Math.max(0, limit.shared.arrival.get() - now);
+            stats.available = Math.max(0, limit.burst - spent / (double)limit.intervalNanos);
+            stats.trackedEntities = limit.entities.size();
+            stats.permitted = limit.permitted.get();
+            stats.delayed = limit.delayed.get();
+            stats.rejected = limit.rejected.get();
+            stats.waitMilliseconds = TimeUnit.NANOSECONDS.toMillis(limit.waitNanos.get());
+            output.add(stats);
+        }
+        return output;
+    }
+
+    /**
+     * @return "Type/Id" of the request's Entity, else its PlayFabId, else null
+     */
+    private String getEntity(Object request) {
+        if (request == null || request instanceof String)
+            return null;
+        try {
+            Field[] fields = getEntityFields(request.getClass());
+            if (fields[0] != null) {
+                Object entity = fields[0].get(request);
+                if (entity != null) {
+                    Field[] key = getEntityKeyFields(entity.getClass());
+                    if (key[0] != null && key[1] != null)
+                        return key[0].get(entity) + "/" + key[1].get(entity);
+                }
+            }
+            if (fields[1] != null) {
+                Object playFabId = fields[1].get(request);
+                if (playFabId != null)
+                    return "master_player_account/" + playFabId;
+            }
+        } catch (IllegalAccessException e) {
+            // Models are public, so this only happens for a request of some other kind
+        }
+        return null;
+    }
+
+    private Field[] getEntityFields(Class<?> type) {
+        Field[] fields = entityFields.get(type);
+        if (fields == null) {
+            fields = new Field[] { getField(type, "Entity"), getField(type, "PlayFabId") };
+            entityFields.putIfAbsent(type, fields);
+        }
+        return fields;
+    }
+
+    /**
+     * @return the Type and Id fields of an EntityKey of any API, either null if the class has no such field
+     */
+    private Field[] getEntityKeyFields(Class<?> type) {
+        Field[] fields = entityKeyFields.get(type);
+        if (fields == null) {
+            fields = new Field[] { getField(type, "Type"), getField(type, "Id") };
+            entityKeyFields.putIfAbsent(type, fields);
+        }
+        return fields;
+    }
+
+    private static Field getField(Class<?> type, String name) {
+        try {
+            return type.getField(name);
+        } catch (NoSuchFieldException e) {
+            return null;
+        }
+    }
+}
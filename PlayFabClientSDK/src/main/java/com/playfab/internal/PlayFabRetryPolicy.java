@@ -0,0 +1,292 @@
+package com.playfab.internal;
+
+import java.net.*;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.*;
+
+import com.playfab.PlayFabSettings;
+import com.playfab.PlayFabErrors.PlayFabError;
+import com.playfab.PlayFabErrors.PlayFabErrorCode;
+
+/**
+ * Decides whether a failed call is sent again, and how long to wait first.
+ *
+ * HTTP 429 and 503 responses and APIClientRequestRateLimitExceeded errors are retried up to PlayFabSettings.MaxRetries
+ * times, which is 0 unless set. Other 5xx responses are only retried with PlayFabSettings.RetryServerErrors, since the
+ * server may have applied the call before failing, and a response that arrived but could not be read is never retried:
+ * the call it answers has been applied. The wait is decorrelated jitter: a random time between RetryBaseDelayMilliseconds and three times the previous
+ * wait, capped at RetryMaxDelayMilliseconds, and never shorter than the retryAfterSeconds the server asked for. A server
+ * asking for a longer wait than the cap gets its error returned instead. Transport failures are only retried when the
+ * request never reached the server, since a call that timed out waiting for its response may already have been applied.
+ *
+ * Each API family (/Client, /Server, ...) has a retry budget: a token bucket holding up to RetryBudgetBurst retries,
+ * topped up by RetryBudgetRatio of a retry for every call made. During an outage, when every call fails, the retries
+ * are therefore limited to that fraction of the calls, instead of multiplying the load on a struggling service.
+ */
+public class PlayFabRetryPolicy {
+    private static final long TOKEN = 1000;
+
+    /**
+     * Retry counts for one endpoint
+     */
+    public static class Stats {
+        public long calls;
+        public long retries;
+        public long recovered; // Calls that failed at first, and then succeeded on a retry
+        public long budgetExhausted; // Retryable failures returned because the family's retry budget was spent
+        public long exhausted; // Calls still failing after MaxRetries retries
+    }
+
+    private static class EndpointCounters {
+        private final AtomicLong calls = new AtomicLong();
+        private final AtomicLong retries = new AtomicLong();
+        private final AtomicLong recovered = new AtomicLong();
+        private final AtomicLong budgetExhausted = new AtomicLong();
+        private final AtomicLong exhausted = new AtomicLong();
+    }
+
+    /**
+     * Retry tokens for one API family, held in thousandths so a call can earn a fraction of one
+     */
+    private static class Budget {
+        private final AtomicLong millitokens;
+
+        private Budget(long millitokens) {
+            this.millitokens = new AtomicLong(millitokens);
+        }
+
+        private void deposit(long amount, long max) {
+            while (true) {
+                long current = millitokens.get();
+                long next = Math.min(max, current + amount);
+                if (next <= current || millitokens.compareAndSet(current, next))
+                    return;
+            }
+        }
+
+        private boolean withdraw() {
+            while (true) {
+                long current = millitokens.get();
+                if (current < TOKEN)
+                    return false;
+                if (millitokens.compareAndSet(current, current - TOKEN))
+                    return true;
+            }
+        }
+    }
+
+    /**
+     * The retry state of one call, from its first attempt to its last
+     */
+    public class Call {
+        private final EndpointCounters counters;
+        private final Budget budget;
+        private int retries;
+        private long previousDelay;
+        private boolean safeToResend = true;
+        private boolean notSent = false;
+
+        private Call(EndpointCounters counters, Budget budget) {
+            this.counters = counters;
+            this.budget = budget;
+        }
+
+        /**
+         * Records why the last attempt failed to get a response, which decides whether it can be sent again
+         */
+        public void transportFailed(Exception e) {
+            safeToResend = isConnectFailure(e);
+        }
+
+        /**
+         * Records that the last attempt reached the server and got a response that could not be read, such as a body that
+         * was empty or failed to decompress, so it is not sent again
+         */
+        public void responseUnreadable() {
+            safeToResend = false;
+        }
+
+        /**
+         * Records that the last attempt was stopped before it was sent, by a local limit, so its error is returned as is
+         */
+        public void notSent() {
+            notSent = true;
+        }
+
+        /**
+         * Records the outcome of a call that is not going to be retried
+         */
+        public void finished(boolean succeeded) {
+            if (succeeded && retries > 0)
+                counters.recovered.incrementAndGet();
+        }
+
+        /**
+         * Waits before the next attempt if the error is worth retrying
+         * @return true to send the call again, false to return the error
+         */
+        public boolean retry(PlayFabError error) {
+            boolean resendable = safeToResend && !notSent;
+            safeToResend = true;
+            notSent = false;
+            if (!resendable || !isRetryable(error))
+                return false;
+            if (retries >= PlayFabSettings.MaxRetries) {
+                if (retries > 0)
+                    counters.exhausted.incrementAndGet();
+                return false;
+            }
+
+            long delay = nextDelay(error);
+            if (delay < 0)
+                return false;
+            if (!budget.withdraw()) {
+                counters.budgetExhausted.incrementAndGet();
+                return false;
+            }
+
+            try {
+                if (delay > 0)
+                    Thread.sleep(delay);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return false;
+            }
+            retries++;
+            counters.retries.incrementAndGet();
+            return true;
+        }
+
+        /**
+         * @return the wait before the next attempt, or -1 if the server asked for longer than RetryMaxDelayMilliseconds
+         */
+        private long nextDelay(PlayFabError error) {
+            long base = Math.max(0, PlayFabSettings.RetryBaseDelayMilliseconds);
+            long cap = Math.max(base, PlayFabSettings.RetryMaxDelayMilliseconds);
+            long upper = Math.min(cap, Math.max(base, previousDelay * 3));
+            long delay = upper > base ? base + ThreadLocalRandom.current().nextLong(upper - base + 1) : base;
+            previousDelay = delay;
+
+            if (error.retryAfterSeconds != null && error.retryAfterSeconds > 0) {
+                long requested = error.retryAfterSeconds * 1000L;
+                if (requested > cap)
+                    return -1;
+                delay = Math.max(delay, requested);
+            }
+            return delay;
+        }
+    }
+
+    private final ConcurrentHashMap<String, EndpointCounters> endpoints = new ConcurrentHashMap<String, EndpointCounters>();
+    private final ConcurrentHashMap<String, Budget> budgets = new ConcurrentHashMap<String, Budget>();
+
+    /**
+     * Starts tracking a call, and earns its API family a fraction of a retry
+     * @param endpoint Api path of the call, such as /Server/GetUserData
+     */
+    public Call begin(String endpoint) {
+        EndpointCounters counters = getCounters(endpoint);
+        counters.calls.incrementAndGet();
+        Budget budget = getBudget(PlayFabHTTP.getApiFamily(endpoint));
+        budget.deposit((long)(Math.max(0, PlayFabSettings.RetryBudgetRatio) * TOKEN), maxTokens());
+        return new Call(counters, budget);
+    }
+
+    /**
+     * @return true for the throttling and unavailability errors that are expected to pass if the call is sent again later.
+     * These are refused before the call is applied, apart from the other 5xx errors PlayFabSettings.RetryServerErrors adds
+     */
+    public static boolean isRetryable(PlayFabError error) {
+        if (error.httpCode == 429 || error.httpCode == 503 || error.pfErrorCode == PlayFabErrorCode.APIClientRequestRateLimitExceeded)
+            return true;
+        if (!PlayFabSettings.RetryServerErrors)
+            return false;
+        return error.httpCode >= 500 || (error.httpCode < 400 && error.pfErrorCode == PlayFabErrorCode.DownstreamServiceUnavailable);
+    }
+
+    /**
+     * @return true for errors that show the service is failing or overloaded, as the circuit breakers and concurrency
+     * limiter count them, whether or not the call can be retried
+     */
+    public static boolean isServiceFailure(PlayFabError error) {
+        if (error.httpCode == 429 || error.httpCode >= 500)
+            return true;
+        if (error.pfErrorCode == PlayFabErrorCode.APIClientRequestRateLimitExceeded)
+            return true;
+        // A 404 or other client error reported as unavailable will fail the same way again
+        if (error.httpCode >= 400)
+            return false;
+        return error.pfErrorCode == PlayFabErrorCode.ServiceUnavailable || error.pfErrorCode == PlayFabErrorCode.DownstreamServiceUnavailable;
+    }
+
+    /**
+     * @return true if the request failed before any of it reached the server
+     */
+    public static boolean isConnectFailure(Exception e) {
+        return e instanceof ConnectException || e instanceof NoRouteToHostException || e instanceof UnknownHostException
+            || e instanceof PortUnreachableException;
+    }
+
+    /**
+     * @return the retry counts of each endpoint
+     */
+    public Map<String, Stats> getStats() {
+        Map<String, Stats> output = new HashMap<String, Stats>();
+        for (Map.Entry<String, EndpointCounters> pair : endpoints.entrySet()) {
+            EndpointCounters counters = pair.getValue();
+            Stats stats = new Stats();
+            stats.calls = counters.calls.get();
+            stats.retries = counters.retries.get();
+            stats.recovered = counters.recovered.get();
+            stats.budgetExhausted = counters.budgetExhausted.get();
+            stats.exhausted = counters.exhausted.get();
+            output.put(pair.getKey(), stats);
+        }
+        return output;
+    }
+
+    /**
+     * @return the retries each API family can currently spend
+     */
+    public Map<String, Double> getBudgets() {
+        Map<String, Double> output = new HashMap<String, Double>();
+        for (Map.Entry<String, Budget> pair : budgets.entrySet())
+            output.put(pair.getKey(), pair.getValue().millitokens.get() / (double)TOKEN);
+        return output;
+    }
+
+    /**
+     * Refills every retry budget, and forgets the counts
+     */
+    public void reset() {
+        endpoints.clear();
+        budgets.clear();
+    }
+
+    private static long maxTokens() {
+        return Math.max(0, PlayFabSettings.RetryBudgetBurst) * TOKEN;
+    }
+
+    private EndpointCounters getCounters(String endpoint) {
+        EndpointCounters counters = endpoints.get(endpoint);
+        if (counters == null) {
+            EndpointCounters created = new EndpointCounters();
+            counters = endpoints.putIfAbsent(endpoint, created);
+            if (counters == null)
+                counters = created;
+        }
+        return counters;
+    }
+
+    private Budget getBudget(String family) {
+        Budget budget = budgets.get(family);
+        if (budget == null) {
+            Budget created = new Budget(maxTokens());
+            budget = budgets.putIfAbsent(family, created);
+            if (budget == null)
+                budget = created;
+        }
+        return budget;
+    }
+}
@@ -0,0 +1,133 @@
+package com.playfab.internal;
+
+import java.io.*;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.*;
+import java.util.concurrent.*;
+
+import com.playfab.PlayFabSettings;
+
+/**
+ * HTTP/2 transport that multiplexes concurrent API calls over a few connections per host.
+ *
+ * This is the Java 11 build of the class, packaged under META-INF/versions/11 of the multi-release jar. Requests are sent
+ * with java.net.http.HttpClient, which negotiates HTTP/2 through ALPN and drops back to HTTP/1.1 for servers that refuse it.
+ * ReadTimeoutMilliseconds bounds the time until the response headers arrive. Request bodies are streamed, and cancelling
+ * the call through PlayFabAbortScope cancels the exchange.
+ */
+public class PlayFabHttp2Transport implements PlayFabTransport {
+    private static final int PIPE_BUFFER_SIZE = 64 * 1024;
+
+    private final HttpClient client;
+
+    public PlayFabHttp2Transport() {
+        client = HttpClient.newBuilder()
+            .version(HttpClient.Version.HTTP_2)
+            .connectTimeout(Duration.ofMillis(PlayFabSettings.ConnectTimeoutMilliseconds))
+            .build();
+    }
+
+    /**
+     * @return true if this runtime supports HTTP/2, false if calls fall back to HTTP/1.1
+     */
+    public static boolean isSupported() {
+        return true;
+    }
+
+    public Response post(String url, Map<String, String> headers, RequestBody body) throws IOException {
+        // HttpClient pulls the body from its own threads, so this thread writes it into a pipe that the client drains as
+        // it sends. Only the pipe's buffer of it is ever held in memory
+        final PipedInputStream source = new PipedInputStream(PIPE_BUFFER_SIZE);
+        PipedOutputStream sink = new PipedOutputStream(source);
+        HttpRequest.BodyPublisher stream = HttpRequest.BodyPublishers.ofInputStream(() -> source);
+        long contentLength = body.getContentLength();
+
+        HttpRequest.Builder builder = HttpRequest.newBuilder(URI.create(url))
+            .timeout(Duration.ofMillis(PlayFabSettings.ReadTimeoutMilliseconds))
+            .POST(contentLength > 0 ? HttpRequest.BodyPublishers.fromPublisher(stream, contentLength) : stream);
+        for (Map.Entry<String, String> header : headers.entrySet())
+            builder.header(header.getKey(), header.getValue());
+        if (body.getContentEncoding() != null)
+            builder.header("Content-Encoding", body.getContentEncoding());
+
+        final CompletableFuture<HttpResponse<InputStream>> pending =
+            client.sendAsync(builder.build(), HttpResponse.BodyHandlers.ofInputStream());
+        // An exchange that has ended reads no more of the pipe, so closing it keeps this thread from blocking on a full buffer
+        pending.whenComplete((response, error) -> closeQuietly(source));
+        PlayFabAbortScope.register(new Closeable() {
+            public void close() {
+                pending.cancel(true);
+                closeQuietly(source);
+                if (pending.isDone() && !pending.isCompletedExceptionally())
+                    closeQuietly(pending.join().body());
+            }
+        });
+
+        HttpResponse<InputStream> response = null;
+        try {
+            try {
+                body.writeTo(sink);
+                sink.close();
+            } catch (IOException e) {
+                if (!pending.isDone()) {
+                    pending.cancel(true);
+                    throw e;
+                }
+                // The exchange ended first, and its response or failure explains why the pipe closed
+            }
+            response = await(pending, url);
+        } finally {
+            if (response == null)
+                PlayFabAbortScope.unregister();
+        }
+
+        Map<String, String> responseHeaders = new HashMap<String, String>();
+        for (Map.Entry<String, List<String>> header : response.headers().map().entrySet())
+            if (!header.getValue().isEmpty())
+                responseHeaders.put(header.getKey().toLowerCase(Locale.ROOT), header.getValue().get(0));
+
+        // The call stays abortable until its body is closed, as with PlayFabHttpUrlConnectionTransport
+        InputStream responseBody = new FilterInputStream(response.body()) {
+            @Override
+            public void close() throws IOException {
+                try {
+                    super.close();
+                } finally {
+                    PlayFabAbortScope.unregister();
+                }
+            }
+        };
+        return new Response(response.statusCode(), responseHeaders, responseBody);
+    }
+
+    private static HttpResponse<InputStream> await(CompletableFuture<HttpResponse<InputStream>> pending, String url) throws IOException {
+        try {
+            return pending.get();
+        } catch (InterruptedException e) {
+            pending.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Interrupted while posting to: " + url);
+        } catch (CancellationException e) {
+            throw new InterruptedIOException("The API call was cancelled");
+        } catch (ExecutionException e) {
+            // The client fails the exchange this way once it is cancelled by an abort
+            if (e.getCause() instanceof CancellationException)
+                throw new InterruptedIOException("The API call was cancelled");
+            if (e.getCause() instanceof IOException)
+                throw (IOException) e.getCause();
+            throw new IOException("Failed to post to: " + url, e.getCause());
+        }
+    }
+
+    private static void closeQuietly(Closeable closeable) {
+        try {
+            closeable.close();
+        } catch (IOException e) {
+            // Only ever closed to abandon the exchange
+        }
+    }
+}
@@ -6,12 +6,10 @@ import com.playfab.PlayFabErrors.*;
 import com.playfab.PlayFabSettings;
 import java.util.concurrent.*;
 import java.util.*;
-import com.google.gson.*;
-import com.google.gson.reflect.*;
 
     /** APIs for managing title configurations, uploaded Game Server code executables, and user data */
 public class PlayFabAdminAPI {
-    private static Gson gson = new GsonBuilder().setDateFormat("yyyy-MM-dd'T'HH:mm:ss.SSS'Z'").create();
+    private static final Async async = new Async();
 
     /**
      * Abort an ongoing task instance.
@@ -22,7 +20,7 @@ public class PlayFabAdminAPI {
     public static FutureTask<PlayFabResult<EmptyResponse>> AbortTaskInstanceAsync(final AbortTaskInstanceRequest request) {
         return new FutureTask(new Callable<PlayFabResult<EmptyResponse>>() {
             public PlayFabResult<EmptyResponse> call() throws Exception {
-                return privateAbortTaskInstanceAsync(request);
+                return privateAbortTaskInstanceAsync(null, request);
             }
         });
     }
@@ -36,7 +34,7 @@ public class PlayFabAdminAPI {
     public static PlayFabResult<EmptyResponse> AbortTaskInstance(final AbortTaskInstanceRequest request) {
         FutureTask<PlayFabResult<EmptyResponse>> task = new FutureTask(new Callable<PlayFabResult<EmptyResponse>>() {
             public PlayFabResult<EmptyResponse> call() throws Exception {
-                return privateAbortTaskInstanceAsync(request);
+                return privateAbortTaskInstanceAsync(null, request);
             }
         });
         try {
@@ -51,10 +49,11 @@ public class PlayFabAdminAPI {
 
     /** Abort an ongoing task instance. */
     @SuppressWarnings("unchecked")
-    private static PlayFabResult<EmptyResponse> privateAbortTaskInstanceAsync(final AbortTaskInstanceRequest request) throws Exception {
-        if (PlayFabSettings.DeveloperSecretKey == null) throw new Exception ("Must have PlayFabSettings.DeveloperSecretKey set to call this method");
+    static PlayFabResult<EmptyResponse> privateAbortTaskInstanceAsync(final PlayFabInstanceAPI instance, final AbortTaskInstanceRequest request) throws Exception {
+        final PlayFabApiContext context = PlayFabInstanceAPI.contextOf(instance);
+        if (context.getDeveloperSecretKey() == null) throw new Exception ("Must have PlayFabSettings.DeveloperSecretKey set to call this method");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Admin/AbortTaskInstance"), request, "X-SecretKey", PlayFabSettings.DeveloperSecretKey);
+        FutureTask<Object> task = PlayFabHTTP.doPost(context.getURL("/Admin/AbortTaskInstance"), request, "X-SecretKey", context.getDeveloperSecretKey(), EmptyResponse.class);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -65,9 +64,7 @@ public class PlayFabAdminAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
-
-        PlayFabJsonSuccess<EmptyResponse> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<EmptyResponse>>(){}.getType());
+        PlayFabJsonSuccess<EmptyResponse> resultData = (PlayFabJsonSuccess<EmptyResponse>) httpResult;
         EmptyResponse result = resultData.data;
 
         PlayFabResult<EmptyResponse> pfResult = new PlayFabResult<EmptyResponse>();
@@ -84,7 +81,7 @@ public class PlayFabAdminAPI {
     public static FutureTask<PlayFabResult<AddLocalizedNewsResult>> AddLocalizedNewsAsync(final AddLocalizedNewsRequest request) {
         return new FutureTask(new Callable<PlayFabResult<AddLocalizedNewsResult>>() {
             public PlayFabResult<AddLocalizedNewsResult> call() throws Exception {
-                return privateAddLocalizedNewsAsync(request);
+                return privateAddLocalizedNewsAsync(null, request);
             }
         });
     }
@@ -98,7 +95,7 @@ public class PlayFabAdminAPI {
     public static PlayFabResult<AddLocalizedNewsResult> AddLocalizedNews(final AddLocalizedNewsRequest request) {
         FutureTask<PlayFabResult<AddLocalizedNewsResult>> task = new FutureTask(new Callable<PlayFabResult<AddLocalizedNewsResult>>() {
             public PlayFabResult<AddLocalizedNewsResult> call() throws Exception {
-                return privateAddLocalizedNewsAsync(request);
+                return privateAddLocalizedNewsAsync(null, request);
             }
         });
         try {
@@ -113,10 +110,11 @@ public class PlayFabAdminAPI {
 
     /** Update news item to include localized version */
     @SuppressWarnings("unchecked")
-    private static PlayFabResult<AddLocalizedNewsResult> privateAddLocalizedNewsAsync(final AddLocalizedNewsRequest request) throws Exception {
-        if (PlayFabSettings.DeveloperSecretKey == null) throw new Exception ("Must have PlayFabSettings.DeveloperSecretKey set to call this method");
+    static PlayFabResult<AddLocalizedNewsResult> privateAddLocalizedNewsAsync(final PlayFabInstanceAPI instance, final AddLocalizedNewsRequest request) throws Exception {
+        final PlayFabApiContext context = PlayFabInstanceAPI.contextOf(instance);
+        if (context.getDeveloperSecretKey() == null) throw new Exception ("Must have PlayFabSettings.DeveloperSecretKey set to call this method");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Admin/AddLocalizedNews"), request, "X-SecretKey", PlayFabSettings.DeveloperSecretKey);
+        FutureTask<Object> task = PlayFabHTTP.doPost(context.getURL("/Admin/AddLocalizedNews"), request, "X-SecretKey", context.getDeveloperSecretKey(), AddLocalizedNewsResult.class);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -127,9 +125,7 @@ public class PlayFabAdminAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
-
-        PlayFabJsonSuccess<AddLocalizedNewsResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<AddLocalizedNewsResult>>(){}.getType());
+        PlayFabJsonSuccess<AddLocalizedNewsResult> resultData = (PlayFabJsonSuccess<AddLocalizedNewsResult>) httpResult;
         AddLocalizedNewsResult result = resultData.data;
 
         PlayFabResult<AddLocalizedNewsResult> pfResult = new PlayFabResult<AddLocalizedNewsResult>();
@@ -146,7 +142,7 @@ public class PlayFabAdminAPI {
     public static FutureTask<PlayFabResult<AddNewsResult>> AddNewsAsync(final AddNewsRequest request) {
         return new FutureTask(new Callable<PlayFabResult<AddNewsResult>>() {
             public PlayFabResult<AddNewsResult> call() throws Exception {
-                return privateAddNewsAsync(request);
+                return privateAddNewsAsync(null, request);
             }
         });
     }
@@ -160,7 +156,7 @@ public class PlayFabAdminAPI {
     public static PlayFabResult<AddNewsResult> AddNews(final AddNewsRequest request) {
         FutureTask<PlayFabResult<AddNewsResult>> task = new FutureTask(new Callable<PlayFabResult<AddNewsResult>>() {
             public PlayFabResult<AddNewsResult> call() throws Exception {
-                return privateAddNewsAsync(request);
+                return privateAddNewsAsync(null, request);
             }
         });
         try {
@@ -175,10 +171,11 @@ public class PlayFabAdminAPI {
 
     /** Adds a new news item to the title's news feed */
     @SuppressWarnings("unchecked")
-    private static PlayFabResult<AddNewsResult> privateAddNewsAsync(final AddNewsRequest request) throws Exception {
-        if (PlayFabSettings.DeveloperSecretKey == null) throw new Exception ("Must have PlayFabSettings.DeveloperSecretKey set to call this method");
+    static PlayFabResult<AddNewsResult> privateAddNewsAsync(final PlayFabInstanceAPI instance, final AddNewsRequest request) throws Exception {
+        final PlayFabApiContext context = PlayFabInstanceAPI.contextOf(instance);
+        if (context.getDeveloperSecretKey() == null) throw new Exception ("Must have PlayFabSettings.DeveloperSecretKey set to call this method");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Admin/AddNews"), request, "X-SecretKey", PlayFabSettings.DeveloperSecretKey);
+        FutureTask<Object> task = PlayFabHTTP.doPost(context.getURL("/Admin/AddNews"), request, "X-SecretKey", context.getDeveloperSecretKey(), AddNewsResult.class);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -189,9 +186,7 @@ public class PlayFabAdminAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
-
-        PlayFabJsonSuccess<AddNewsResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<AddNewsResult>>(){}.getType());
+        PlayFabJsonSuccess<AddNewsResult> resultData = (PlayFabJsonSuccess<AddNewsResult>) httpResult;
         AddNewsResult result = resultData.data;
 
         PlayFabResult<AddNewsResult> pfResult = new PlayFabResult<AddNewsResult>();
@@ -208,7 +203,7 @@ public class PlayFabAdminAPI {
     public static FutureTask<PlayFabResult<AddPlayerTagResult>> AddPlayerTagAsync(final AddPlayerTagRequest request) {
         return new FutureTask(new Callable<PlayFabResult<AddPlayerTagResult>>() {
             public PlayFabResult<AddPlayerTagResult> call() throws Exception {
-                return privateAddPlayerTagAsync(request);
+                return privateAddPlayerTagAsync(null, request);
             }
         });
     }
@@ -222,7 +217,7 @@ public class PlayFabAdminAPI {
     public static PlayFabResult<AddPlayerTagResult> AddPlayerTag(final AddPlayerTagRequest request) {
         FutureTask<PlayFabResult<AddPlayerTagResult>> task = new FutureTask(new Callable<PlayFabResult<AddPlayerTagResult>>() {
             public PlayFabResult<AddPlayerTagResult> call() throws Exception {
-                return privateAddPlayerTagAsync(request);
+                return privateAddPlayerTagAsync(null, request);
             }
         });
         try {
@@ -237,10 +232,11 @@ public class PlayFabAdminAPI {
 
     /** Adds a given tag to a player profile. The tag's namespace is automatically generated based on the source of the tag. */
     @SuppressWarnings("unchecked")
-    private static PlayFabResult<AddPlayerTagResult> privateAddPlayerTagAsync(final AddPlayerTagRequest request) throws Exception {
-        if (PlayFabSettings.DeveloperSecretKey == null) throw new Exception ("Must have PlayFabSettings.DeveloperSecretKey set to call this method");
+    static PlayFabResult<AddPlayerTagResult> privateAddPlayerTagAsync(final PlayFabInstanceAPI instance, final AddPlayerTagRequest request) throws Exception {
+        final PlayFabApiContext context = PlayFabInstanceAPI.contextOf(instance);
+        if (context.getDeveloperSecretKey() == null) throw new Exception ("Must have PlayFabSettings.DeveloperSecretKey set to call this method");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Admin/AddPlayerTag"), request, "X-SecretKey", PlayFabSettings.DeveloperSecretKey);
+        FutureTask<Object> task = PlayFabHTTP.doPost(context.getURL("/Admin/AddPlayerTag"), request, "X-SecretKey", context.getDeveloperSecretKey(), AddPlayerTagResult.class);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -251,9 +247,7 @@ public class PlayFabAdminAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
-
-        PlayFabJsonSuccess<AddPlayerTagResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<AddPlayerTagResult>>(){}.getType());
+        PlayFabJsonSuccess<AddPlayerTagResult> resultData = (PlayFabJsonSuccess<AddPlayerTagResult>) httpResult;
         AddPlayerTagResult result = resultData.data;
 
         PlayFabResult<AddPlayerTagResult> pfResult = new PlayFabResult<AddPlayerTagResult>();
@@ -271,7 +265,7 @@ public class PlayFabAdminAPI {
     public static FutureTask<PlayFabResult<AddServerBuildResult>> AddServerBuildAsync(final AddServerBuildRequest request) {
         return new FutureTask(new Callable<PlayFabResult<AddServerBuildResult>>() {
             public PlayFabResult<AddServerBuildResult> call() throws Exception {
-                return privateAddServerBuildAsync(request);
+                return privateAddServerBuildAsync(null, request);
             }
         });
     }
@@ -286,7 +280,7 @@ public class PlayFabAdminAPI {
     public static PlayFabResult<AddServerBuildResult> AddServerBuild(final AddServerBuildRequest request) {
         FutureTask<PlayFabResult<AddServerBuildResult>> task = new FutureTask(new Callable<PlayFabResult<AddServerBuildResult>>() {
             public PlayFabResult<AddServerBuildResult> call() throws Exception {
-                return privateAddServerBuildAsync(request);
+                return privateAddServerBuildAsync(null, request);
             }
         });
         try {
@@ -304,10 +298,11 @@ public class PlayFabAdminAPI {
      * client is permitted to request in a call to StartGame
      */
     @SuppressWarnings("unchecked")
-    private static PlayFabResult<AddServerBuildResult> privateAddServerBuildAsync(final AddServerBuildRequest request) throws Exception {
-        if (PlayFabSettings.DeveloperSecretKey == null) throw new Exception ("Must have PlayFabSettings.DeveloperSecretKey set to call this method");
+    static PlayFabResult<AddServerBuildResult> privateAddServerBuildAsync(final PlayFabInstanceAPI instance, final AddServerBuildRequest request) throws Exception {
+        final PlayFabApiContext context = PlayFabInstanceAPI.contextOf(instance);
+        if (context.getDeveloperSecretKey() == null) throw new Exception ("Must have PlayFabSettings.DeveloperSecretKey set to call this method");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Admin/AddServerBuild"), request, "X-SecretKey", PlayFabSettings.DeveloperSecretKey);
+        FutureTask<Object> task = PlayFabHTTP.doPost(context.getURL("/Admin/AddServerBuild"), request, "X-SecretKey", context.getDeveloperSecretKey(), AddServerBuildResult.class);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -318,9 +313,7 @@ public class PlayFabAdminAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
-
-        PlayFabJsonSuccess<AddServerBuildResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<AddServerBuildResult>>(){}.getType());
+        PlayFabJsonSuccess<AddServerBuildResult> resultData = (PlayFabJsonSuccess<AddServerBuildResult>) httpResult;
         AddServerBuildResult result = resultData.data;
 
         PlayFabResult<AddServerBuildResult> pfResult = new PlayFabResult<AddServerBuildResult>();
@@ -337,7 +330,7 @@ public class PlayFabAdminAPI {
     public static FutureTask<PlayFabResult<ModifyUserVirtualCurrencyResult>> AddUserVirtualCurrencyAsync(final AddUserVirtualCurrencyRequest request) {
         return new FutureTask(new Callable<PlayFabResult<ModifyUserVirtualCurrencyResult>>() {
             public PlayFabResult<ModifyUserVirtualCurrencyResult> call() throws Exception {
-                return privateAddUserVirtualCurrencyAsync(request);
+                return privateAddUserVirtualCurrencyAsync(null, request);
             }
         });
     }
@@ -351,7 +344,7 @@ public class PlayFabAdminAPI {
     public static PlayFabResult<ModifyUserVirtualCurrencyResult> AddUserVirtualCurrency(final AddUserVirtualCurrencyRequest request) {
         FutureTask<PlayFabResult<ModifyUserVirtualCurrencyResult>> task = new FutureTask(new Callable<PlayFabResult<ModifyUserVirtualCurrencyResult>>() {
             public PlayFabResult<ModifyUserVirtualCurrencyResult> call() throws Exception {
-                return privateAddUserVirtualCurrencyAsync(request);
+                return privateAddUserVirtualCurrencyAsync(null, request);
             }
         });
         try {
@@ -366,10 +359,11 @@ public class PlayFabAdminAPI {
 
     /** Increments the specified virtual currency by the stated amount */
     @SuppressWarnings("unchecked")
-    private static PlayFabResult<ModifyUserVirtualCurrencyResult> privateAddUserVirtualCurrencyAsync(final AddUserVirtualCurrencyRequest request) throws Exception {
-        if (PlayFabSettings.DeveloperSecretKey == null) throw new Exception ("Must have PlayFabSettings.DeveloperSecretKey set to call this method");
+    static PlayFabResult<ModifyUserVirtualCurrencyResult> privateAddUserVirtualCurrencyAsync(final PlayFabInstanceAPI instance, final AddUserVirtualCurrencyRequest request) throws Exception {
+        final PlayFabApiContext context = PlayFabInstanceAPI.contextOf(instance);
+        if (context.getDeveloperSecretKey() == null) throw new Exception ("Must have PlayFabSettings.DeveloperSecretKey set to call this method");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Admin/AddUserVirtualCurrency"), request, "X-SecretKey", PlayFabSettings.DeveloperSecretKey);
+        FutureTask<Object> task = PlayFabHTTP.doPost(context.getURL("/Admin/AddUserVirtualCurrency"), request, "X-SecretKey", context.getDeveloperSecretKey(), ModifyUserVirtualCurrencyResult.class);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -380,9 +374,7 @@ public class PlayFabAdminAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
-
-        PlayFabJsonSuccess<ModifyUserVirtualCurrencyResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<ModifyUserVirtualCurrencyResult>>(){}.getType());
+        PlayFabJsonSuccess<ModifyUserVirtualCurrencyResult> resultData = (PlayFabJsonSuccess<ModifyUserVirtualCurrencyResult>) httpResult;
         ModifyUserVirtualCurrencyResult result = resultData.data;
 
         PlayFabResult<ModifyUserVirtualCurrencyResult> pfResult = new PlayFabResult<ModifyUserVirtualCurrencyResult>();
@@ -400,7 +392,7 @@ public class PlayFabAdminAPI {
     public static FutureTask<PlayFabResult<BlankResult>> AddVirtualCurrencyTypesAsync(final AddVirtualCurrencyTypesRequest request) {
         return new FutureTask(new Callable<PlayFabResult<BlankResult>>() {
             public PlayFabResult<BlankResult> call() throws Exception {
-                return privateAddVirtualCurrencyTypesAsync(request);
+                return privateAddVirtualCurrencyTypesAsync(null, request);
             }
         });
     }
@@ -415,7 +407,7 @@ public class PlayFabAdminAPI {
     public static PlayFabResult<BlankResult> AddVirtualCurrencyTypes(final AddVirtualCurrencyTypesRequest request) {
         FutureTask<PlayFabResult<BlankResult>> task = new FutureTask(new Callable<PlayFabResult<BlankResult>>() {
             public PlayFabResult<BlankResult> call() throws Exception {
-                return privateAddVirtualCurrencyTypesAsync(request);
+                return privateAddVirtualCurrencyTypesAsync(null, request);
             }
         });
         try {
@@ -433,10 +425,11 @@ public class PlayFabAdminAPI {
      * 2,147,483,647 when granted to a player. Any value over that will be discarded.
      */
     @SuppressWarnings("unchecked")
-    private static PlayFabResult<BlankResult> privateAddVirtualCurrencyTypesAsync(final AddVirtualCurrencyTypesRequest request) throws Exception {
-        if (PlayFabSettings.DeveloperSecretKey == null) throw new Exception ("Must have PlayFabSettings.DeveloperSecretKey set to call this method");
+    static PlayFabResult<BlankResult> privateAddVirtualCurrencyTypesAsync(final PlayFabInstanceAPI instance, final AddVirtualCurrencyTypesRequest request) throws Exception {
+        final PlayFabApiContext context = PlayFabInstanceAPI.contextOf(instance);
+        if (context.getDeveloperSecretKey() == null) throw new Exception ("Must have PlayFabSettings.DeveloperSecretKey set to call this method");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Admin/AddVirtualCurrencyTypes"), request, "X-SecretKey", PlayFabSettings.DeveloperSecretKey);
+        FutureTask<Object> task = PlayFabHTTP.doPost(context.getURL("/Admin/AddVirtualCurrencyTypes"), request, "X-SecretKey", context.getDeveloperSecretKey(), BlankResult.class);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -447,9 +440,7 @@ public class PlayFabAdminAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
-
-        PlayFabJsonSuccess<BlankResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<BlankResult>>(){}.getType());
+        PlayFabJsonSuccess<BlankResult> resultData = (PlayFabJsonSuccess<BlankResult>) httpResult;
         BlankResult result = resultData.data;
 
         PlayFabResult<BlankResult> pfResult = new PlayFabResult<BlankResult>();
@@ -466,7 +457,7 @@ public class PlayFabAdminAPI {
     public static FutureTask<PlayFabResult<BanUsersResult>> BanUsersAsync(final BanUsersRequest request) {
         return new FutureTask(new Callable<PlayFabResult<BanUsersResult>>() {
             public PlayFabResult<BanUsersResult> call() throws Exception {
-                return privateBanUsersAsync(request);
+                return privateBanUsersAsync(null, request);
             }
         });
     }
@@ -480,7 +471,7 @@ public class PlayFabAdminAPI {
     public static PlayFabResult<BanUsersResult> BanUsers(final BanUsersRequest request) {
         FutureTask<PlayFabResult<BanUsersResult>> task = new FutureTask(new Callable<PlayFabResult<BanUsersResult>>() {
             public PlayFabResult<BanUsersResult> call() throws Exception {
-                return privateBanUsersAsync(request);
+                return privateBanUsersAsync(null, request);
             }
         });
         try {
@@ -495,10 +486,11 @@ public class PlayFabAdminAPI {
 
     /** Bans users by PlayFab ID with optional IP address, or MAC address for the provided game. */
     @SuppressWarnings("unchecked")
-    private static PlayFabResult<BanUsersResult> privateBanUsersAsync(final BanUsersRequest request) throws Exception {
-        if (PlayFabSettings.DeveloperSecretKey == null) throw new Exception ("Must have PlayFabSettings.DeveloperSecretKey set to call this method");
+    static PlayFabResult<BanUsersResult> privateBanUsersAsync(final PlayFabInstanceAPI instance, final BanUsersRequest request) throws Exception {
+        final PlayFabApiContext context = PlayFabInstanceAPI.contextOf(instance);
+        if (context.getDeveloperSecretKey() == null) throw new Exception ("Must have PlayFabSettings.DeveloperSecretKey set to call this method");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Admin/BanUsers"), request, "X-SecretKey", PlayFabSettings.DeveloperSecretKey);
+        FutureTask<Object> task = PlayFabHTTP.doPost(context.getURL("/Admin/BanUsers"), request, "X-SecretKey", context.getDeveloperSecretKey(), BanUsersResult.class);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -509,9 +501,7 @@ public class PlayFabAdminAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
-
-        PlayFabJsonSuccess<BanUsersResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<BanUsersResult>>(){}.getType());
+        PlayFabJsonSuccess<BanUsersResult> resultData = (PlayFabJsonSuccess<BanUsersResult>) httpResult;
         BanUsersResult result = resultData.data;
 
         PlayFabResult<BanUsersResult> pfResult = new PlayFabResult<BanUsersResult>();
@@ -528,7 +518,7 @@ public class PlayFabAdminAPI {
     public static FutureTask<PlayFabResult<CheckLimitedEditionItemAvailabilityResult>> CheckLimitedEditionItemAvailabilityAsync(final CheckLimitedEditionItemAvailabilityRequest request) {
         return new FutureTask(new Callable<PlayFabResult<CheckLimitedEditionItemAvailabilityResult>>() {
             public PlayFabResult<CheckLimitedEditionItemAvailabilityResult> call() throws Exception {
-                return privateCheckLimitedEditionItemAvailabilityAsync(request);
+                return privateCheckLimitedEditionItemAvailabilityAsync(null, request);
             }
         });
     }
@@ -542,7 +532,7 @@ public class PlayFabAdminAPI {
     public static PlayFabResult<CheckLimitedEditionItemAvailabilityResult> CheckLimitedEditionItemAvailability(final CheckLimitedEditionItemAvailabilityRequest request) {
         FutureTask<PlayFabResult<CheckLimitedEditionItemAvailabilityResult>> task = new FutureTask(new Callable<PlayFabResult<CheckLimitedEditionItemAvailabilityResult>>() {
             public PlayFabResult<CheckLimitedEditionItemAvailabilityResult> call() throws Exception {
-                return privateCheckLimitedEditionItemAvailabilityAsync(request);
+                return privateCheckLimitedEditionItemAvailabilityAsync(null, request);
             }
         });
         try {
@@ -557,10 +547,11 @@ public class PlayFabAdminAPI {
 
     /** Checks the global count for the limited edition item. */
     @SuppressWarnings("unchecked")
-    private static PlayFabResult<CheckLimitedEditionItemAvailabilityResult> privateCheckLimitedEditionItemAvailabilityAsync(final CheckLimitedEditionItemAvailabilityRequest request) throws Exception {
-        if (PlayFabSettings.DeveloperSecretKey == null) throw new Exception ("Must have PlayFabSettings.DeveloperSecretKey set to call this method");
+    static PlayFabResult<CheckLimitedEditionItemAvailabilityResult> privateCheckLimitedEditionItemAvailabilityAsync(final PlayFabInstanceAPI instance, final CheckLimitedEditionItemAvailabilityRequest request) throws Exception {
+        final PlayFabApiContext context = PlayFabInstanceAPI.contextOf(instance);
+        if (context.getDeveloperSecretKey() == null) throw new Exception ("Must have PlayFabSettings.DeveloperSecretKey set to call this method");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Admin/CheckLimitedEditionItemAvailability"), request, "X-SecretKey", PlayFabSettings.DeveloperSecretKey);
+        FutureTask<Object> task = PlayFabHTTP.doPost(context.getURL("/Admin/CheckLimitedEditionItemAvailability"), request, "X-SecretKey", context.getDeveloperSecretKey(), CheckLimitedEditionItemAvailabilityResult.class);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -571,9 +562,7 @@ public class PlayFabAdminAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
-
-        PlayFabJsonSuccess<CheckLimitedEditionItemAvailabilityResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<CheckLimitedEditionItemAvailabilityResult>>(){}.getType());
+        PlayFabJsonSuccess<CheckLimitedEditionItemAvailabilityResult> resultData = (PlayFabJsonSuccess<CheckLimitedEditionItemAvailabilityResult>) httpResult;
         CheckLimitedEditionItemAvailabilityResult result = resultData.data;
 
         PlayFabResult<CheckLimitedEditionItemAvailabilityResult> pfResult = new PlayFabResult<CheckLimitedEditionItemAvailabilityResult>();
@@ -590,7 +579,7 @@ public class PlayFabAdminAPI {
     public static FutureTask<PlayFabResult<CreateTaskResult>> CreateActionsOnPlayersInSegmentTaskAsync(final CreateActionsOnPlayerSegmentTaskRequest request) {
         return new FutureTask(new Callable<PlayFabResult<CreateTaskResult>>() {
             public PlayFabResult<CreateTaskResult> call() throws Exception {
-                return privateCreateActionsOnPlayersInSegmentTaskAsync(request);
+                return privateCreateActionsOnPlayersInSegmentTaskAsync(null, request);
             }
         });
     }
@@ -604,7 +593,7 @@ public class PlayFabAdminAPI {
     public static PlayFabResult<CreateTaskResult> CreateActionsOnPlayersInSegmentTask(final CreateActionsOnPlayerSegmentTaskRequest request) {
         FutureTask<PlayFabResult<CreateTaskResult>> task = new FutureTask(new Callable<PlayFabResult<CreateTaskResult>>() {
             public PlayFabResult<CreateTaskResult> call() throws Exception {
-                return privateCreateActionsOnPlayersInSegmentTaskAsync(request);
+                return privateCreateActionsOnPlayersInSegmentTaskAsync(null, request);
             }
         });
         try {
@@ -619,10 +608,11 @@ public class PlayFabAdminAPI {
 
     /** Create an ActionsOnPlayersInSegment task, which iterates through all players in a segment to execute action. */
     @SuppressWarnings("unchecked")
-    private static PlayFabResult<CreateTaskResult> privateCreateActionsOnPlayersInSegmentTaskAsync(final CreateActionsOnPlayerSegmentTaskRequest request) throws Exception {
-        if (PlayFabSettings.DeveloperSecretKey == null) throw new Exception ("Must have PlayFabSettings.DeveloperSecretKey set to call this method");
+    static PlayFabResult<CreateTaskResult> privateCreateActionsOnPlayersInSegmentTaskAsync(final PlayFabInstanceAPI instance, final CreateActionsOnPlayerSegmentTaskRequest request) throws Exception {
+        final PlayFabApiContext context = PlayFabInstanceAPI.contextOf(instance);
+        if (context.getDeveloperSecretKey() == null) throw new Exception ("Must have PlayFabSettings.DeveloperSecretKey set to call this method");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Admin/CreateActionsOnPlayersInSegmentTask"), request, "X-SecretKey", PlayFabSettings.DeveloperSecretKey);
+        FutureTask<Object> task = PlayFabHTTP.doPost(context.getURL("/Admin/CreateActionsOnPlayersInSegmentTask"), request, "X-SecretKey", context.getDeveloperSecretKey(), CreateTaskResult.class);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -633,9 +623,7 @@ public class PlayFabAdminAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
-
-        PlayFabJsonSuccess<CreateTaskResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<CreateTaskResult>>(){}.getType());
+        PlayFabJsonSuccess<CreateTaskResult> resultData = (PlayFabJsonSuccess<CreateTaskResult>) httpResult;
         CreateTaskResult result = resultData.data;
 
         PlayFabResult<CreateTaskResult> pfResult = new PlayFabResult<CreateTaskResult>();
@@ -652,7 +640,7 @@ public class PlayFabAdminAPI {
     public static FutureTask<PlayFabResult<CreateTaskResult>> CreateCloudScriptTaskAsync(final CreateCloudScriptTaskRequest request) {
         return new FutureTask(new Callable<PlayFabResult<CreateTaskResult>>() {
             public PlayFabResult<CreateTaskResult> call() throws Exception {
-                return privateCreateCloudScriptTaskAsync(request);
+                return privateCreateCloudScriptTaskAsync(null, request);
             }
         });
     }
@@ -666,7 +654,7 @@ public class PlayFabAdminAPI {
     public static PlayFabResult<CreateTaskResult> CreateCloudScriptTask(final CreateCloudScriptTaskRequest request) {
         FutureTask<PlayFabResult<CreateTaskResult>> task = new FutureTask(new Callable<PlayFabResult<CreateTaskResult>>() {
             public PlayFabResult<CreateTaskResult> call() throws Exception {
-                return privateCreateCloudScriptTaskAsync(request);
+                return privateCreateCloudScriptTaskAsync(null, request);
             }
         });
         try {
@@ -681,10 +669,11 @@ public class PlayFabAdminAPI {
 
     /** Create a CloudScript task, which can run a CloudScript on a schedule. */
     @SuppressWarnings("unchecked")
-    private static PlayFabResult<CreateTaskResult> privateCreateCloudScriptTaskAsync(final CreateCloudScriptTaskRequest request) throws Exception {
-        if (PlayFabSettings.DeveloperSecretKey == null) throw new Exception ("Must have PlayFabSettings.DeveloperSecretKey set to call this method");
+    static PlayFabResult<CreateTaskResult> privateCreateCloudScriptTaskAsync(final PlayFabInstanceAPI instance, final CreateCloudScriptTaskRequest request) throws Exception {
+        final PlayFabApiContext context = PlayFabInstanceAPI.contextOf(instance);
+        if (context.getDeveloperSecretKey() == null) throw new Exception ("Must have PlayFabSettings.DeveloperSecretKey set to call this method");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Admin/CreateCloudScriptTask"), request, "X-SecretKey", PlayFabSettings.DeveloperSecretKey);
+        FutureTask<Object> task = PlayFabHTTP.doPost(context.getURL("/Admin/CreateCloudScriptTask"), request, "X-SecretKey", context.getDeveloperSecretKey(), CreateTaskResult.class);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -695,9 +684,7 @@ public class PlayFabAdminAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
-
-        PlayFabJsonSuccess<CreateTaskResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<CreateTaskResult>>(){}.getType());
+        PlayFabJsonSuccess<CreateTaskResult> resultData = (PlayFabJsonSuccess<CreateTaskResult>) httpResult;
         CreateTaskResult result = resultData.data;
 
         PlayFabResult<CreateTaskResult> pfResult = new PlayFabResult<CreateTaskResult>();
@@ -714,7 +701,7 @@ public class PlayFabAdminAPI {
     public static FutureTask<PlayFabResult<CreateTaskResult>> CreateInsightsScheduledScalingTaskAsync(final CreateInsightsScheduledScalingTaskRequest request) {
         return new FutureTask(new Callable<PlayFabResult<CreateTaskResult>>() {
             public PlayFabResult<CreateTaskResult> call() throws Exception {
-                return privateCreateInsightsScheduledScalingTaskAsync(request);
+                return privateCreateInsightsScheduledScalingTaskAsync(null, request);
             }
         });
     }
@@ -728,7 +715,7 @@ public class PlayFabAdminAPI {
     public static PlayFabResult<CreateTaskResult> CreateInsightsScheduledScalingTask(final CreateInsightsScheduledScalingTaskRequest request) {
         FutureTask<PlayFabResult<CreateTaskResult>> task = new FutureTask(new Callable<PlayFabResult<CreateTaskResult>>() {
             public PlayFabResult<CreateTaskResult> call() throws Exception {
-                return privateCreateInsightsScheduledScalingTaskAsync(request);
+                return privateCreateInsightsScheduledScalingTaskAsync(null, request);
             }
         });
         try {
@@ -743,10 +730,11 @@ public class PlayFabAdminAPI {
 
     /** Create a Insights Scheduled Scaling task, which can scale Insights Performance Units on a schedule */
     @SuppressWarnings("unchecked")
-    private static PlayFabResult<CreateTaskResult> privateCreateInsightsScheduledScalingTaskAsync(final CreateInsightsScheduledScalingTaskRequest request) throws Exception {
-        if (PlayFabSettings.DeveloperSecretKey == null) throw new Exception ("Must have PlayFabSettings.DeveloperSecretKey set to call this method");
+    static PlayFabResult<CreateTaskResult> privateCreateInsightsScheduledScalingTaskAsync(final PlayFabInstanceAPI instance, final CreateInsightsScheduledScalingTaskRequest request) throws Exception {
+        final PlayFabApiContext context = PlayFabInstanceAPI.contextOf(instance);
+        if (context.getDeveloperSecretKey() == null) throw new Exception ("Must have PlayFabSettings.DeveloperSecretKey set to call this method");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Admin/CreateInsightsScheduledScalingTask"), request, "X-SecretKey", PlayFabSettings.DeveloperSecretKey);
+        FutureTask<Object> task = PlayFabHTTP.doPost(context.getURL("/Admin/CreateInsightsScheduledScalingTask"), request, "X-SecretKey", context.getDeveloperSecretKey(), CreateTaskResult.class);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -757,9 +745,7 @@ public class PlayFabAdminAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
-
-        PlayFabJsonSuccess<CreateTaskResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<CreateTaskResult>>(){}.getType());
+        PlayFabJsonSuccess<CreateTaskResult> resultData = (PlayFabJsonSuccess<CreateTaskResult>) httpResult;
         CreateTaskResult result = resultData.data;
 
         PlayFabResult<CreateTaskResult> pfResult = new PlayFabResult<CreateTaskResult>();
@@ -776,7 +762,7 @@ public class PlayFabAdminAPI {
     public static FutureTask<PlayFabResult<EmptyResponse>> CreateOpenIdConnectionAsync(final CreateOpenIdConnectionRequest request) {
         return new FutureTask(new Callable<PlayFabResult<EmptyResponse>>() {
             public PlayFabResult<EmptyResponse> call() throws Exception {
-                return privateCreateOpenIdConnectionAsync(request);
+                return privateCreateOpenIdConnectionAsync(null, request);
             }
         });
     }
@@ -790,7 +776,7 @@ public class PlayFabAdminAPI {
     public static PlayFabResult<EmptyResponse> CreateOpenIdConnection(final CreateOpenIdConnectionRequest request) {
         FutureTask<PlayFabResult<EmptyResponse>> task = new FutureTask(new Callable<PlayFabResult<EmptyResponse>>() {
             public PlayFabResult<EmptyResponse> call() throws Exception {
-                return privateCreateOpenIdConnectionAsync(request);
+                return privateCreateOpenIdConnectionAsync(null, request);
             }
         });
         try {
@@ -805,10 +791,11 @@ public class PlayFabAdminAPI {
 
     /** Registers a relationship between a title and an Open ID Connect provider. */
     @SuppressWarnings("unchecked")
-    private static PlayFabResult<EmptyResponse> privateCreateOpenIdConnectionAsync(final CreateOpenIdConnectionRequest request) throws Exception {
-        if (PlayFabSettings.DeveloperSecretKey == null) throw new Exception ("Must have PlayFabSettings.DeveloperSecretKey set to call this method");
+    static PlayFabResult<EmptyResponse> privateCreateOpenIdConnectionAsync(final PlayFabInstanceAPI instance, final CreateOpenIdConnectionRequest request) throws Exception {
+        final PlayFabApiContext context = PlayFabInstanceAPI.contextOf(instance);
+        if (context.getDeveloperSecretKey() == null) throw new Exception ("Must have PlayFabSettings.DeveloperSecretKey set to call this method");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Admin/CreateOpenIdConnection"), request, "X-SecretKey", PlayFabSettings.DeveloperSecretKey);
+        FutureTask<Object> task = PlayFabHTTP.doPost(context.getURL("/Admin/CreateOpenIdConnection"), request, "X-SecretKey", context.getDeveloperSecretKey(), EmptyResponse.class);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -819,9 +806,7 @@ public class PlayFabAdminAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
-
-        PlayFabJsonSuccess<EmptyResponse> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<EmptyResponse>>(){}.getType());
+        PlayFabJsonSuccess<EmptyResponse> resultData = (PlayFabJsonSuccess<EmptyResponse>) httpResult;
         EmptyResponse result = resultData.data;
 
         PlayFabResult<EmptyResponse> pfResult = new PlayFabResult<EmptyResponse>();
@@ -839,7 +824,7 @@ public class PlayFabAdminAPI {
     public static FutureTask<PlayFabResult<CreatePlayerSharedSecretResult>> CreatePlayerSharedSecretAsync(final CreatePlayerSharedSecretRequest request) {
         return new FutureTask(new Callable<PlayFabResult<CreatePlayerSharedSecretResult>>() {
             public PlayFabResult<CreatePlayerSharedSecretResult> call() throws Exception {
-                return privateCreatePlayerSharedSecretAsync(request);
+                return privateCreatePlayerSharedSecretAsync(null, request);
             }
         });
     }
@@ -854,7 +839,7 @@ public class PlayFabAdminAPI {
     public static PlayFabResult<CreatePlayerSharedSecretResult> CreatePlayerSharedSecret(final CreatePlayerSharedSecretRequest request) {
         FutureTask<PlayFabResult<CreatePlayerSharedSecretResult>> task = new FutureTask(new Callable<PlayFabResult<CreatePlayerSharedSecretResult>>() {
             public PlayFabResult<CreatePlayerSharedSecretResult> call() throws Exception {
-                return privateCreatePlayerSharedSecretAsync(request);
+                return privateCreatePlayerSharedSecretAsync(null, request);
             }
         });
         try {
@@ -872,10 +857,11 @@ public class PlayFabAdminAPI {
      * this API returns.
      */
     @SuppressWarnings("unchecked")
-    private static PlayFabResult<CreatePlayerSharedSecretResult> privateCreatePlayerSharedSecretAsync(final CreatePlayerSharedSecretRequest request) throws Exception {
-        if (PlayFabSettings.DeveloperSecretKey == null) throw new Exception ("Must have PlayFabSettings.DeveloperSecretKey set to call this method");
+    static PlayFabResult<CreatePlayerSharedSecretResult> privateCreatePlayerSharedSecretAsync(final PlayFabInstanceAPI instance, final CreatePlayerSharedSecretRequest request) throws Exception {
+        final PlayFabApiContext context = PlayFabInstanceAPI.contextOf(instance);
+        if (context.getDeveloperSecretKey() == null) throw new Exception ("Must have PlayFabSettings.DeveloperSecretKey set to call this method");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Admin/CreatePlayerSharedSecret"), request, "X-SecretKey", PlayFabSettings.DeveloperSecretKey);
+        FutureTask<Object> task = PlayFabHTTP.doPost(context.getURL("/Admin/CreatePlayerSharedSecret"), request, "X-SecretKey", context.getDeveloperSecretKey(), CreatePlayerSharedSecretResult.class);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -886,9 +872,7 @@ public class PlayFabAdminAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
-
-        PlayFabJsonSuccess<CreatePlayerSharedSecretResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<CreatePlayerSharedSecretResult>>(){}.getType());
+        PlayFabJsonSuccess<CreatePlayerSharedSecretResult> resultData = (PlayFabJsonSuccess<CreatePlayerSharedSecretResult>) httpResult;
         CreatePlayerSharedSecretResult result = resultData.data;
 
         PlayFabResult<CreatePlayerSharedSecretResult> pfResult = new PlayFabResult<CreatePlayerSharedSecretResult>();
@@ -906,7 +890,7 @@ public class PlayFabAdminAPI {
     public static FutureTask<PlayFabResult<CreatePlayerStatisticDefinitionResult>> CreatePlayerStatisticDefinitionAsync(final CreatePlayerStatisticDefinitionRequest request) {
         return new FutureTask(new Callable<PlayFabResult<CreatePlayerStatisticDefinitionResult>>() {
             public PlayFabResult<CreatePlayerStatisticDefinitionResult> call() throws Exception {
-                return privateCreatePlayerStatisticDefinitionAsync(request);
+                return privateCreatePlayerStatisticDefinitionAsync(null, request);
             }
         });
     }
@@ -921,7 +905,7 @@ public class PlayFabAdminAPI {
     public static PlayFabResult<CreatePlayerStatisticDefinitionResult> CreatePlayerStatisticDefinition(final CreatePlayerStatisticDefinitionRequest request) {
         FutureTask<PlayFabResult<CreatePlayerStatisticDefinitionResult>> task = new FutureTask(new Callable<PlayFabResult<CreatePlayerStatisticDefinitionResult>>() {
             public PlayFabResult<CreatePlayerStatisticDefinitionResult> call() throws Exception {
-                return privateCreatePlayerStatisticDefinitionAsync(request);
+                return privateCreatePlayerStatisticDefinitionAsync(null, request);
             }
         });
         try {
@@ -939,10 +923,11 @@ public class PlayFabAdminAPI {
      * and an aggregation method.
      */
     @SuppressWarnings("unchecked")
-    private static PlayFabResult<CreatePlayerStatisticDefinitionResult> privateCreatePlayerStatisticDefinitionAsync(final CreatePlayerStatisticDefinitionRequest request) throws Exception {
-        if (PlayFabSettings.DeveloperSecretKey == null) throw new Exception ("Must have PlayFabSettings.DeveloperSecretKey set to call this method");
+    static PlayFabResult<CreatePlayerStatisticDefinitionResult> privateCreatePlayerStatisticDefinitionAsync(final PlayFabInstanceAPI instance, final CreatePlayerStatisticDefinitionRequest request) throws Exception {
+        final PlayFabApiContext context = PlayFabInstanceAPI.contextOf(instance);
+        if (context.getDeveloperSecretKey() == null) throw new Exception ("Must have PlayFabSettings.DeveloperSecretKey set to call this method");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Admin/CreatePlayerStatisticDefinition"), request, "X-SecretKey", PlayFabSettings.DeveloperSecretKey);
+        FutureTask<Object> task = PlayFabHTTP.doPost(context.getURL("/Admin/CreatePlayerStatisticDefinition"), request, "X-SecretKey", context.getDeveloperSecretKey(), CreatePlayerStatisticDefinitionResult.class);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -953,9 +938,7 @@ public class PlayFabAdminAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
-
-        PlayFabJsonSuccess<CreatePlayerStatisticDefinitionResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<CreatePlayerStatisticDefinitionResult>>(){}.getType());
+        PlayFabJsonSuccess<CreatePlayerStatisticDefinitionResult> resultData = (PlayFabJsonSuccess<CreatePlayerStatisticDefinitionResult>) httpResult;
         CreatePlayerStatisticDefinitionResult result = resultData.data;
 
         PlayFabResult<CreatePlayerStatisticDefinitionResult> pfResult = new PlayFabResult<CreatePlayerStatisticDefinitionResult>();
@@ -973,7 +956,7 @@ public class PlayFabAdminAPI {
     public static FutureTask<PlayFabResult<CreateSegmentResponse>> CreateSegmentAsync(final CreateSegmentRequest request) {
         return new FutureTask(new Callable<PlayFabResult<CreateSegmentResponse>>() {
             public PlayFabResult<CreateSegmentResponse> call() throws Exception {
-                return privateCreateSegmentAsync(request);
+                return privateCreateSegmentAsync(null, request);
             }
         });
     }
@@ -988,7 +971,7 @@ public class PlayFabAdminAPI {
     public static PlayFabResult<CreateSegmentResponse> CreateSegment(final CreateSegmentRequest request) {
         FutureTask<PlayFabResult<CreateSegmentResponse>> task = new FutureTask(new Callable<PlayFabResult<CreateSegmentResponse>>() {
             public PlayFabResult<CreateSegmentResponse> call() throws Exception {
-                return privateCreateSegmentAsync(request);
+                return privateCreateSegmentAsync(null, request);
             }
         });
         try {
@@ -1006,10 +989,11 @@ public class PlayFabAdminAPI {
      * segments for a title.
      */
     @SuppressWarnings("unchecked")
-    private static PlayFabResult<CreateSegmentResponse> privateCreateSegmentAsync(final CreateSegmentRequest request) throws Exception {
-        if (PlayFabSettings.DeveloperSecretKey == null) throw new Exception ("Must have PlayFabSettings.DeveloperSecretKey set to call this method");
+    static PlayFabResult<CreateSegmentResponse> privateCreateSegmentAsync(final PlayFabInstanceAPI instance, final CreateSegmentRequest request) throws Exception {
+        final PlayFabApiContext context = PlayFabInstanceAPI.contextOf(instance);
+        if (context.getDeveloperSecretKey() == null) throw new Exception ("Must have PlayFabSettings.DeveloperSecretKey set to call this method");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Admin/CreateSegment"), request, "X-SecretKey", PlayFabSettings.DeveloperSecretKey);
+        FutureTask<Object> task = PlayFabHTTP.doPost(context.getURL("/Admin/CreateSegment"), request, "X-SecretKey", context.getDeveloperSecretKey(), CreateSegmentResponse.class);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -1020,9 +1004,7 @@ public class PlayFabAdminAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
-
-        PlayFabJsonSuccess<CreateSegmentResponse> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<CreateSegmentResponse>>(){}.getType());
+        PlayFabJsonSuccess<CreateSegmentResponse> resultData = (PlayFabJsonSuccess<CreateSegmentResponse>) httpResult;
         CreateSegmentResponse result = resultData.data;
 
         PlayFabResult<CreateSegmentResponse> pfResult = new PlayFabResult<CreateSegmentResponse>();
@@ -1039,7 +1021,7 @@ public class PlayFabAdminAPI {
     public static FutureTask<PlayFabResult<BlankResult>> DeleteContentAsync(final DeleteContentRequest request) {
         return new FutureTask(new Callable<PlayFabResult<BlankResult>>() {
             public PlayFabResult<BlankResult> call() throws Exception {
-                return privateDeleteContentAsync(request);
+                return privateDeleteContentAsync(null, request);
             }
         });
     }
@@ -1053,7 +1035,7 @@ public class PlayFabAdminAPI {
     public static PlayFabResult<BlankResult> DeleteContent(final DeleteContentRequest request) {
         FutureTask<PlayFabResult<BlankResult>> task = new FutureTask(new Callable<PlayFabResult<BlankResult>>() {
             public PlayFabResult<BlankResult> call() throws Exception {
-                return privateDeleteContentAsync(request);
+                return privateDeleteContentAsync(null, request);
             }
         });
         try {
@@ -1068,10 +1050,11 @@ public class PlayFabAdminAPI {
 
     /** Delete a content file from the title. When deleting a file that does not exist, it returns success. */
     @SuppressWarnings("unchecked")
-    private static PlayFabResult<BlankResult> privateDeleteContentAsync(final DeleteContentRequest request) throws Exception {
-        if (PlayFabSettings.DeveloperSecretKey == null) throw new Exception ("Must have PlayFabSettings.DeveloperSecretKey set to call this method");
+    static PlayFabResult<BlankResult> privateDeleteContentAsync(final PlayFabInstanceAPI instance, final DeleteContentRequest request) throws Exception {
+        final PlayFabApiContext context = PlayFabInstanceAPI.contextOf(instance);
+        if (context.getDeveloperSecretKey() == null) throw new Exception ("Must have PlayFabSettings.DeveloperSecretKey set to call this method");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Admin/DeleteContent"), request, "X-SecretKey", PlayFabSettings.DeveloperSecretKey);
+        FutureTask<Object> task = PlayFabHTTP.doPost(context.getURL("/Admin/DeleteContent"), request, "X-SecretKey", context.getDeveloperSecretKey(), BlankResult.class);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -1082,9 +1065,7 @@ public class PlayFabAdminAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
-
-        PlayFabJsonSuccess<BlankResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<BlankResult>>(){}.getType());
+        PlayFabJsonSuccess<BlankResult> resultData = (PlayFabJsonSuccess<BlankResult>) httpResult;
         BlankResult result = resultData.data;
 
         PlayFabResult<BlankResult> pfResult = new PlayFabResult<BlankResult>();
@@ -1101,7 +1082,7 @@ public class PlayFabAdminAPI {
     public static FutureTask<PlayFabResult<DeleteMasterPlayerAccountResult>> DeleteMasterPlayerAccountAsync(final DeleteMasterPlayerAccountRequest request) {
         return new FutureTask(new Callable<PlayFabResult<DeleteMasterPlayerAccountResult>>() {
             public PlayFabResult<DeleteMasterPlayerAccountResult> call() throws Exception {
-                return privateDeleteMasterPlayerAccountAsync(request);
+                return privateDeleteMasterPlayerAccountAsync(null, request);
             }
         });
     }
@@ -1115,7 +1096,7 @@ public class PlayFabAdminAPI {
     public static PlayFabResult<DeleteMasterPlayerAccountResult> DeleteMasterPlayerAccount(final DeleteMasterPlayerAccountRequest request) {
         FutureTask<PlayFabResult<DeleteMasterPlayerAccountResult>> task = new FutureTask(new Callable<PlayFabResult<DeleteMasterPlayerAccountResult>>() {
             public PlayFabResult<DeleteMasterPlayerAccountResult> call() throws Exception {
-                return privateDeleteMasterPlayerAccountAsync(request);
+                return privateDeleteMasterPlayerAccountAsync(null, request);
             }
         });
         try {
@@ -1130,10 +1111,11 @@ public class PlayFabAdminAPI {
 
     /** Removes a master player account entirely from all titles and deletes all associated data */
     @SuppressWarnings("unchecked")
-    private static PlayFabResult<DeleteMasterPlayerAccountResult> privateDeleteMasterPlayerAccountAsync(final DeleteMasterPlayerAccountRequest request) throws Exception {
-        if (PlayFabSettings.DeveloperSecretKey == null) throw new Exception ("Must have PlayFabSettings.DeveloperSecretKey set to call this method");
+    static PlayFabResult<DeleteMasterPlayerAccountResult> privateDeleteMasterPlayerAccountAsync(final PlayFabInstanceAPI instance, final DeleteMasterPlayerAccountRequest request) throws Exception {
+        final PlayFabApiContext context = PlayFabInstanceAPI.contextOf(instance);
+        if (context.getDeveloperSecretKey() == null) throw new Exception ("Must have PlayFabSettings.DeveloperSecretKey set to call this method");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Admin/DeleteMasterPlayerAccount"), request, "X-SecretKey", PlayFabSettings.DeveloperSecretKey);
+        FutureTask<Object> task = PlayFabHTTP.doPost(context.getURL("/Admin/DeleteMasterPlayerAccount"), request, "X-SecretKey", context.getDeveloperSecretKey(), DeleteMasterPlayerAccountResult.class);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -1144,9 +1126,7 @@ public class PlayFabAdminAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
-
-        PlayFabJsonSuccess<DeleteMasterPlayerAccountResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<DeleteMasterPlayerAccountResult>>(){}.getType());
+        PlayFabJsonSuccess<DeleteMasterPlayerAccountResult> resultData = (PlayFabJsonSuccess<DeleteMasterPlayerAccountResult>) httpResult;
         DeleteMasterPlayerAccountResult result = resultData.data;
 
         PlayFabResult<DeleteMasterPlayerAccountResult> pfResult = new PlayFabResult<DeleteMasterPlayerAccountResult>();
@@ -1163,7 +1143,7 @@ public class PlayFabAdminAPI {
     public static FutureTask<PlayFabResult<DeleteMembershipSubscriptionResult>> DeleteMembershipSubscriptionAsync(final DeleteMembershipSubscriptionRequest request) {
         return new FutureTask(new Callable<PlayFabResult<DeleteMembershipSubscriptionResult>>() {
             public PlayFabResult<DeleteMembershipSubscriptionResult> call() throws Exception {
-                return privateDeleteMembershipSubscriptionAsync(request);
+                return privateDeleteMembershipSubscriptionAsync(null, request);
             }
         });
     }
@@ -1177,7 +1157,7 @@ public class PlayFabAdminAPI {
     public static PlayFabResult<DeleteMembershipSubscriptionResult> DeleteMembershipSubscription(final DeleteMembershipSubscriptionRequest request) {
         FutureTask<PlayFabResult<DeleteMembershipSubscriptionResult>> task = new FutureTask(new Callable<PlayFabResult<DeleteMembershipSubscriptionResult>>() {
             public PlayFabResult<DeleteMembershipSubscriptionResult> call() throws Exception {
-                return privateDeleteMembershipSubscriptionAsync(request);
+                return privateDeleteMembershipSubscriptionAsync(null, request);
             }
         });
         try {
@@ -1192,10 +1172,11 @@ public class PlayFabAdminAPI {
 
     /** Deletes a player's subscription */
     @SuppressWarnings("unchecked")
-    private static PlayFabResult<DeleteMembershipSubscriptionResult> privateDeleteMembershipSubscriptionAsync(final DeleteMembershipSubscriptionRequest request) throws Exception {
-        if (PlayFabSettings.DeveloperSecretKey == null) throw new Exception ("Must have PlayFabSettings.DeveloperSecretKey set to call this method");
+    static PlayFabResult<DeleteMembershipSubscriptionResult> privateDeleteMembershipSubscriptionAsync(final PlayFabInstanceAPI instance, final DeleteMembershipSubscriptionRequest request) throws Exception {
+        final PlayFabApiContext context = PlayFabInstanceAPI.contextOf(instance);
+        if (context.getDeveloperSecretKey() == null) throw new Exception ("Must have PlayFabSettings.DeveloperSecretKey set to call this method");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Admin/DeleteMembershipSubscription"), request, "X-SecretKey", PlayFabSettings.DeveloperSecretKey);
+        FutureTask<Object> task = PlayFabHTTP.doPost(context.getURL("/Admin/DeleteMembershipSubscription"), request, "X-SecretKey", context.getDeveloperSecretKey(), DeleteMembershipSubscriptionResult.class);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -1206,9 +1187,7 @@ public class PlayFabAdminAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
-
-        PlayFabJsonSuccess<DeleteMembershipSubscriptionResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<DeleteMembershipSubscriptionResult>>(){}.getType());
+        PlayFabJsonSuccess<DeleteMembershipSubscriptionResult> resultData = (PlayFabJsonSuccess<DeleteMembershipSubscriptionResult>) httpResult;
         DeleteMembershipSubscriptionResult result = resultData.data;
 
         PlayFabResult<DeleteMembershipSubscriptionResult> pfResult = new PlayFabResult<DeleteMembershipSubscriptionResult>();
@@ -1225,7 +1204,7 @@ public class PlayFabAdminAPI {
     public static FutureTask<PlayFabResult<EmptyResponse>> DeleteOpenIdConnectionAsync(final DeleteOpenIdConnectionRequest request) {
         return new FutureTask(new Callable<PlayFabResult<EmptyResponse>>() {
             public PlayFabResult<EmptyResponse> call() throws Exception {
-                return privateDeleteOpenIdConnectionAsync(request);
+                return privateDeleteOpenIdConnectionAsync(null, request);
             }
         });
     }
@@ -1239,7 +1218,7 @@ public class PlayFabAdminAPI {
     public static PlayFabResult<EmptyResponse> DeleteOpenIdConnection(final DeleteOpenIdConnectionRequest request) {
         FutureTask<PlayFabResult<EmptyResponse>> task = new FutureTask(new Callable<PlayFabResult<EmptyResponse>>() {
             public PlayFabResult<EmptyResponse> call() throws Exception {
-                return privateDeleteOpenIdConnectionAsync(request);
+                return privateDeleteOpenIdConnectionAsync(null, request);
             }
         });
         try {
@@ -1254,10 +1233,11 @@ public class PlayFabAdminAPI {
 
     /** Removes a relationship between a title and an OpenID Connect provider. */
     @SuppressWarnings("unchecked")
-    private static PlayFabResult<EmptyResponse> privateDeleteOpenIdConnectionAsync(final DeleteOpenIdConnectionRequest request) throws Exception {
-        if (PlayFabSettings.DeveloperSecretKey == null) throw new Exception ("Must have PlayFabSettings.DeveloperSecretKey set to call this method");
+    static PlayFabResult<EmptyResponse> privateDeleteOpenIdConnectionAsync(final PlayFabInstanceAPI instance, final DeleteOpenIdConnectionRequest request) throws Exception {
+        final PlayFabApiContext context = PlayFabInstanceAPI.contextOf(instance);
+        if (context.getDeveloperSecretKey() == null) throw new Exception ("Must have PlayFabSettings.DeveloperSecretKey set to call this method");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Admin/DeleteOpenIdConnection"), request, "X-SecretKey", PlayFabSettings.DeveloperSecretKey);
+        FutureTask<Object> task = PlayFabHTTP.doPost(context.getURL("/Admin/DeleteOpenIdConnection"), request, "X-SecretKey", context.getDeveloperSecretKey(), EmptyResponse.class);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -1268,9 +1248,7 @@ public class PlayFabAdminAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
-
-        PlayFabJsonSuccess<EmptyResponse> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<EmptyResponse>>(){}.getType());
+        PlayFabJsonSuccess<EmptyResponse> resultData = (PlayFabJsonSuccess<EmptyResponse>) httpResult;
         EmptyResponse result = resultData.data;
 
         PlayFabResult<EmptyResponse> pfResult = new PlayFabResult<EmptyResponse>();
@@ -1287,7 +1265,7 @@ public class PlayFabAdminAPI {
     public static FutureTask<PlayFabResult<DeletePlayerResult>> DeletePlayerAsync(final DeletePlayerRequest request) {
         return new FutureTask(new Callable<PlayFabResult<DeletePlayerResult>>() {
             public PlayFabResult<DeletePlayerResult> call() throws Exception {
-                return privateDeletePlayerAsync(request);
+                return privateDeletePlayerAsync(null, request);
             }
         });
     }
@@ -1301,7 +1279,7 @@ public class PlayFabAdminAPI {
     public static PlayFabResult<DeletePlayerResult> DeletePlayer(final DeletePlayerRequest request) {
         FutureTask<PlayFabResult<DeletePlayerResult>> task = new FutureTask(new Callable<PlayFabResult<DeletePlayerResult>>() {
             public PlayFabResult<DeletePlayerResult> call() throws Exception {
-                return privateDeletePlayerAsync(request);
+                return privateDeletePlayerAsync(null, request);
             }
         });
         try {
@@ -1316,10 +1294,11 @@ public class PlayFabAdminAPI {
 
     /** Removes a user's player account from a title and deletes all associated data */
     @SuppressWarnings("unchecked")
-    private static PlayFabResult<DeletePlayerResult> privateDeletePlayerAsync(final DeletePlayerRequest request) throws Exception {
-        if (PlayFabSettings.DeveloperSecretKey == null) throw new Exception ("Must have PlayFabSettings.DeveloperSecretKey set to call this method");
+    static PlayFabResult<DeletePlayerResult> privateDeletePlayerAsync(final PlayFabInstanceAPI instance, final DeletePlayerRequest request) throws Exception {
+        final PlayFabApiContext context = PlayFabInstanceAPI.contextOf(instance);
+        if (context.getDeveloperSecretKey() == null) throw new Exception ("Must have PlayFabSettings.DeveloperSecretKey set to call this method");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Admin/DeletePlayer"), request, "X-SecretKey", PlayFabSettings.DeveloperSecretKey);
+        FutureTask<Object> task = PlayFabHTTP.doPost(context.getURL("/Admin/DeletePlayer"), request, "X-SecretKey", context.getDeveloperSecretKey(), DeletePlayerResult.class);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -1330,9 +1309,7 @@ public class PlayFabAdminAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
-
-        PlayFabJsonSuccess<DeletePlayerResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<DeletePlayerResult>>(){}.getType());
+        PlayFabJsonSuccess<DeletePlayerResult> resultData = (PlayFabJsonSuccess<DeletePlayerResult>) httpResult;
         DeletePlayerResult result = resultData.data;
 
         PlayFabResult<DeletePlayerResult> pfResult = new PlayFabResult<DeletePlayerResult>();
@@ -1350,7 +1327,7 @@ public class PlayFabAdminAPI {
     public static FutureTask<PlayFabResult<DeletePlayerSharedSecretResult>> DeletePlayerSharedSecretAsync(final DeletePlayerSharedSecretRequest request) {
         return new FutureTask(new Callable<PlayFabResult<DeletePlayerSharedSecretResult>>() {
             public PlayFabResult<DeletePlayerSharedSecretResult> call() throws Exception {
-                return privateDeletePlayerSharedSecretAsync(request);
+                return privateDeletePlayerSharedSecretAsync(null, request);
             }
         });
     }
@@ -1365,7 +1342,7 @@ public class PlayFabAdminAPI {
     public static PlayFabResult<DeletePlayerSharedSecretResult> DeletePlayerSharedSecret(final DeletePlayerSharedSecretRequest request) {
         FutureTask<PlayFabResult<DeletePlayerSharedSecretResult>> task = new FutureTask(new Callable<PlayFabResult<DeletePlayerSharedSecretResult>>() {
             public PlayFabResult<DeletePlayerSharedSecretResult> call() throws Exception {
-                return privateDeletePlayerSharedSecretAsync(request);
+                return privateDeletePlayerSharedSecretAsync(null, request);
             }
         });
         try {
@@ -1383,10 +1360,11 @@ public class PlayFabAdminAPI {
      * returns.
      */
     @SuppressWarnings("unchecked")
-    private static PlayFabResult<DeletePlayerSharedSecretResult> privateDeletePlayerSharedSecretAsync(final DeletePlayerSharedSecretRequest request) throws Exception {
-        if (PlayFabSettings.DeveloperSecretKey == null) throw new Exception ("Must have PlayFabSettings.DeveloperSecretKey set to call this method");
+    static PlayFabResult<DeletePlayerSharedSecretResult> privateDeletePlayerSharedSecretAsync(final PlayFabInstanceAPI instance, final DeletePlayerSharedSecretRequest request) throws Exception {
+        final PlayFabApiContext context = PlayFabInstanceAPI.contextOf(instance);
+        if (context.getDeveloperSecretKey() == null) throw new Exception ("Must have PlayFabSettings.DeveloperSecretKey set to call this method");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Admin/DeletePlayerSharedSecret"), request, "X-SecretKey", PlayFabSettings.DeveloperSecretKey);
+        FutureTask<Object> task = PlayFabHTTP.doPost(context.getURL("/Admin/DeletePlayerSharedSecret"), request, "X-SecretKey", context.getDeveloperSecretKey(), DeletePlayerSharedSecretResult.class);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -1397,9 +1375,7 @@ public class PlayFabAdminAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
-
-        PlayFabJsonSuccess<DeletePlayerSharedSecretResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<DeletePlayerSharedSecretResult>>(){}.getType());
+        PlayFabJsonSuccess<DeletePlayerSharedSecretResult> resultData = (PlayFabJsonSuccess<DeletePlayerSharedSecretResult>) httpResult;
         DeletePlayerSharedSecretResult result = resultData.data;
 
         PlayFabResult<DeletePlayerSharedSecretResult> pfResult = new PlayFabResult<DeletePlayerSharedSecretResult>();
@@ -1416,7 +1392,7 @@ public class PlayFabAdminAPI {
     public static FutureTask<PlayFabResult<DeleteSegmentsResponse>> DeleteSegmentAsync(final DeleteSegmentRequest request) {
         return new FutureTask(new Callable<PlayFabResult<DeleteSegmentsResponse>>() {
             public PlayFabResult<DeleteSegmentsResponse> call() throws Exception {
-                return privateDeleteSegmentAsync(request);
+                return privateDeleteSegmentAsync(null, request);
             }
         });
     }
@@ -1430,7 +1406,7 @@ public class PlayFabAdminAPI {
     public static PlayFabResult<DeleteSegmentsResponse> DeleteSegment(final DeleteSegmentRequest request) {
         FutureTask<PlayFabResult<DeleteSegmentsResponse>> task = new FutureTask(new Callable<PlayFabResult<DeleteSegmentsResponse>>() {
             public PlayFabResult<DeleteSegmentsResponse> call() throws Exception {
-                return privateDeleteSegmentAsync(request);
+                return privateDeleteSegmentAsync(null, request);
             }
         });
         try {
@@ -1445,10 +1421,11 @@ public class PlayFabAdminAPI {
 
     /** Deletes an existing player segment and its associated action(s) for a title. */
     @SuppressWarnings("unchecked")
-    private static PlayFabResult<DeleteSegmentsResponse> privateDeleteSegmentAsync(final DeleteSegmentRequest request) throws Exception {
-        if (PlayFabSettings.DeveloperSecretKey == null) throw new Exception ("Must have PlayFabSettings.DeveloperSecretKey set to call this method");
+    static PlayFabResult<DeleteSegmentsResponse> privateDeleteSegmentAsync(final PlayFabInstanceAPI instance, final DeleteSegmentRequest request) throws Exception {
+        final PlayFabApiContext context = PlayFabInstanceAPI.contextOf(instance);
+        if (context.getDeveloperSecretKey() == null) throw new Exception ("Must have PlayFabSettings.DeveloperSecretKey set to call this method");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Admin/DeleteSegment"), request, "X-SecretKey", PlayFabSettings.DeveloperSecretKey);
+        FutureTask<Object> task = PlayFabHTTP.doPost(context.getURL("/Admin/DeleteSegment"), request, "X-SecretKey", context.getDeveloperSecretKey(), DeleteSegmentsResponse.class);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -1459,9 +1436,7 @@ public class PlayFabAdminAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
-
-        PlayFabJsonSuccess<DeleteSegmentsResponse> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<DeleteSegmentsResponse>>(){}.getType());
+        PlayFabJsonSuccess<DeleteSegmentsResponse> resultData = (PlayFabJsonSuccess<DeleteSegmentsResponse>) httpResult;
         DeleteSegmentsResponse result = resultData.data;
 
         PlayFabResult<DeleteSegmentsResponse> pfResult = new PlayFabResult<DeleteSegmentsResponse>();
@@ -1478,7 +1453,7 @@ public class PlayFabAdminAPI {
     public static FutureTask<PlayFabResult<DeleteStoreResult>> DeleteStoreAsync(final DeleteStoreRequest request) {
         return new FutureTask(new Callable<PlayFabResult<DeleteStoreResult>>() {
             public PlayFabResult<DeleteStoreResult> call() throws Exception {
-                return privateDeleteStoreAsync(request);
+                return privateDeleteStoreAsync(null, request);
             }
         });
     }
@@ -1492,7 +1467,7 @@ public class PlayFabAdminAPI {
     public static PlayFabResult<DeleteStoreResult> DeleteStore(final DeleteStoreRequest request) {
         FutureTask<PlayFabResult<DeleteStoreResult>> task = new FutureTask(new Callable<PlayFabResult<DeleteStoreResult>>() {
             public PlayFabResult<DeleteStoreResult> call() throws Exception {
-                return privateDeleteStoreAsync(request);
+                return privateDeleteStoreAsync(null, request);
             }
         });
         try {
@@ -1507,10 +1482,11 @@ public class PlayFabAdminAPI {
 
     /** Deletes an existing virtual item store */
     @SuppressWarnings("unchecked")
-    private static PlayFabResult<DeleteStoreResult> privateDeleteStoreAsync(final DeleteStoreRequest request) throws Exception {
-        if (PlayFabSettings.DeveloperSecretKey == null) throw new Exception ("Must have PlayFabSettings.DeveloperSecretKey set to call this method");
+    static PlayFabResult<DeleteStoreResult> privateDeleteStoreAsync(final PlayFabInstanceAPI instance, final DeleteStoreRequest request) throws Exception {
+        final PlayFabApiContext context = PlayFabInstanceAPI.contextOf(instance);
+        if (context.getDeveloperSecretKey() == null) throw new Exception ("Must have PlayFabSettings.DeveloperSecretKey set to call this method");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Admin/DeleteStore"), request, "X-SecretKey", PlayFabSettings.DeveloperSecretKey);
+        FutureTask<Object> task = PlayFabHTTP.doPost(context.getURL("/Admin/DeleteStore"), request, "X-SecretKey", context.getDeveloperSecretKey(), DeleteStoreResult.class);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -1521,9 +1497,7 @@ public class PlayFabAdminAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
-
-        PlayFabJsonSuccess<DeleteStoreResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<DeleteStoreResult>>(){}.getType());
+        PlayFabJsonSuccess<DeleteStoreResult> resultData = (PlayFabJsonSuccess<DeleteStoreResult>) httpResult;
         DeleteStoreResult result = resultData.data;
 
         PlayFabResult<DeleteStoreResult> pfResult = new PlayFabResult<DeleteStoreResult>();
@@ -1540,7 +1514,7 @@ public class PlayFabAdminAPI {
     public static FutureTask<PlayFabResult<EmptyResponse>> DeleteTaskAsync(final DeleteTaskRequest request) {
         return new FutureTask(new Callable<PlayFabResult<EmptyResponse>>() {
             public PlayFabResult<EmptyResponse> call() throws Exception {
-                return privateDeleteTaskAsync(request);
+                return privateDeleteTaskAsync(null, request);
             }
         });
     }
@@ -1554,7 +1528,7 @@ public class PlayFabAdminAPI {
     public static PlayFabResult<EmptyResponse> DeleteTask(final DeleteTaskRequest request) {
         FutureTask<PlayFabResult<EmptyResponse>> task = new FutureTask(new Callable<PlayFabResult<EmptyResponse>>() {
             public PlayFabResult<EmptyResponse> call() throws Exception {
-                return privateDeleteTaskAsync(request);
+                return privateDeleteTaskAsync(null, request);
             }
         });
         try {
@@ -1569,10 +1543,11 @@ public class PlayFabAdminAPI {
 
     /** Delete a task. */
     @SuppressWarnings("unchecked")
-    private static PlayFabResult<EmptyResponse> privateDeleteTaskAsync(final DeleteTaskRequest request) throws Exception {
-        if (PlayFabSettings.DeveloperSecretKey == null) throw new Exception ("Must have PlayFabSettings.DeveloperSecretKey set to call this method");
+    static PlayFabResult<EmptyResponse> privateDeleteTaskAsync(final PlayFabInstanceAPI instance, final DeleteTaskRequest request) throws Exception {
+        final PlayFabApiContext context = PlayFabInstanceAPI.contextOf(instance);
+        if (context.getDeveloperSecretKey() == null) throw new Exception ("Must have PlayFabSettings.DeveloperSecretKey set to call this method");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Admin/DeleteTask"), request, "X-SecretKey", PlayFabSettings.DeveloperSecretKey);
+        FutureTask<Object> task = PlayFabHTTP.doPost(context.getURL("/Admin/DeleteTask"), request, "X-SecretKey", context.getDeveloperSecretKey(), EmptyResponse.class);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -1583,9 +1558,7 @@ public class PlayFabAdminAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
-
-        PlayFabJsonSuccess<EmptyResponse> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<EmptyResponse>>(){}.getType());
+        PlayFabJsonSuccess<EmptyResponse> resultData = (PlayFabJsonSuccess<EmptyResponse>) httpResult;
         EmptyResponse result = resultData.data;
 
         PlayFabResult<EmptyResponse> pfResult = new PlayFabResult<EmptyResponse>();
@@ -1602,7 +1575,7 @@ public class PlayFabAdminAPI {
     public static FutureTask<PlayFabResult<DeleteTitleResult>> DeleteTitleAsync(final DeleteTitleRequest request) {
         return new FutureTask(new Callable<PlayFabResult<DeleteTitleResult>>() {
             public PlayFabResult<DeleteTitleResult> call() throws Exception {
-                return privateDeleteTitleAsync(request);
+                return privateDeleteTitleAsync(null, request);
             }
         });
     }
@@ -1616,7 +1589,7 @@ public class PlayFabAdminAPI {
     public static PlayFabResult<DeleteTitleResult> DeleteTitle(final DeleteTitleRequest request) {
         FutureTask<PlayFabResult<DeleteTitleResult>> task = new FutureTask(new Callable<PlayFabResult<DeleteTitleResult>>() {
             public PlayFabResult<DeleteTitleResult> call() throws Exception {
-                return privateDeleteTitleAsync(request);
+                return privateDeleteTitleAsync(null, request);
             }
         });
         try {
@@ -1631,10 +1604,11 @@ public class PlayFabAdminAPI {
 
     /** Permanently deletes a title and all associated configuration */
     @SuppressWarnings("unchecked")
-    private static PlayFabResult<DeleteTitleResult> privateDeleteTitleAsync(final DeleteTitleRequest request) throws Exception {
-        if (PlayFabSettings.DeveloperSecretKey == null) throw new Exception ("Must have PlayFabSettings.DeveloperSecretKey set to call this method");
+    static PlayFabResult<DeleteTitleResult> privateDeleteTitleAsync(final PlayFabInstanceAPI instance, final DeleteTitleRequest request) throws Exception {
+        final PlayFabApiContext context = PlayFabInstanceAPI.contextOf(instance);
+        if (context.getDeveloperSecretKey() == null) throw new Exception ("Must have PlayFabSettings.DeveloperSecretKey set to call this method");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Admin/DeleteTitle"), request, "X-SecretKey", PlayFabSettings.DeveloperSecretKey);
+        FutureTask<Object> task = PlayFabHTTP.doPost(context.getURL("/Admin/DeleteTitle"), request, "X-SecretKey", context.getDeveloperSecretKey(), DeleteTitleResult.class);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -1645,9 +1619,7 @@ public class PlayFabAdminAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
-
-        PlayFabJsonSuccess<DeleteTitleResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<DeleteTitleResult>>(){}.getType());
+        PlayFabJsonSuccess<DeleteTitleResult> resultData = (PlayFabJsonSuccess<DeleteTitleResult>) httpResult;
         DeleteTitleResult result = resultData.data;
 
         PlayFabResult<DeleteTitleResult> pfResult = new PlayFabResult<DeleteTitleResult>();
@@ -1664,7 +1636,7 @@ public class PlayFabAdminAPI {
     public static FutureTask<PlayFabResult<DeleteTitleDataOverrideResult>> DeleteTitleDataOverrideAsync(final DeleteTitleDataOverrideRequest request) {
         return new FutureTask(new Callable<PlayFabResult<DeleteTitleDataOverrideResult>>() {
             public PlayFabResult<DeleteTitleDataOverrideResult> call() throws Exception {
-                return privateDeleteTitleDataOverrideAsync(request);
+                return privateDeleteTitleDataOverrideAsync(null, request);
             }
         });
     }
@@ -1678,7 +1650,7 @@ public class PlayFabAdminAPI {
     public static PlayFabResult<DeleteTitleDataOverrideResult> DeleteTitleDataOverride(final DeleteTitleDataOverrideRequest request) {
         FutureTask<PlayFabResult<DeleteTitleDataOverrideResult>> task = new FutureTask(new Callable<PlayFabResult<DeleteTitleDataOverrideResult>>() {
             public PlayFabResult<DeleteTitleDataOverrideResult> call() throws Exception {
-                return privateDeleteTitleDataOverrideAsync(request);
+                return privateDeleteTitleDataOverrideAsync(null, request);
             }
         });
         try {
@@ -1693,10 +1665,11 @@ public class PlayFabAdminAPI {
 
     /** Deletes a specified set of title data overrides. */
     @SuppressWarnings("unchecked")
-    private static PlayFabResult<DeleteTitleDataOverrideResult> privateDeleteTitleDataOverrideAsync(final DeleteTitleDataOverrideRequest request) throws Exception {
-        if (PlayFabSettings.DeveloperSecretKey == null) throw new Exception ("Must have PlayFabSettings.DeveloperSecretKey set to call this method");
+    static PlayFabResult<DeleteTitleDataOverrideResult> privateDeleteTitleDataOverrideAsync(final PlayFabInstanceAPI instance, final DeleteTitleDataOverrideRequest request) throws Exception {
+        final PlayFabApiContext context = PlayFabInstanceAPI.contextOf(instance);
+        if (context.getDeveloperSecretKey() == null) throw new Exception ("Must have PlayFabSettings.DeveloperSecretKey set to call this method");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Admin/DeleteTitleDataOverride"), request, "X-SecretKey", PlayFabSettings.DeveloperSecretKey);
+        FutureTask<Object> task = PlayFabHTTP.doPost(context.getURL("/Admin/DeleteTitleDataOverride"), request, "X-SecretKey", context.getDeveloperSecretKey(), DeleteTitleDataOverrideResult.class);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -1707,9 +1680,7 @@ public class PlayFabAdminAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
-
-        PlayFabJsonSuccess<DeleteTitleDataOverrideResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<DeleteTitleDataOverrideResult>>(){}.getType());
+        PlayFabJsonSuccess<DeleteTitleDataOverrideResult> resultData = (PlayFabJsonSuccess<DeleteTitleDataOverrideResult>) httpResult;
         DeleteTitleDataOverrideResult result = resultData.data;
 
         PlayFabResult<DeleteTitleDataOverrideResult> pfResult = new PlayFabResult<DeleteTitleDataOverrideResult>();
@@ -1726,7 +1697,7 @@ public class PlayFabAdminAPI {
     public static FutureTask<PlayFabResult<ExportMasterPlayerDataResult>> ExportMasterPlayerDataAsync(final ExportMasterPlayerDataRequest request) {
         return new FutureTask(new Callable<PlayFabResult<ExportMasterPlayerDataResult>>() {
             public PlayFabResult<ExportMasterPlayerDataResult> call() throws Exception {
-                return privateExportMasterPlayerDataAsync(request);
+                return privateExportMasterPlayerDataAsync(null, request);
             }
         });
     }
@@ -1740,7 +1711,7 @@ public class PlayFabAdminAPI {
     public static PlayFabResult<ExportMasterPlayerDataResult> ExportMasterPlayerData(final ExportMasterPlayerDataRequest request) {
         FutureTask<PlayFabResult<ExportMasterPlayerDataResult>> task = new FutureTask(new Callable<PlayFabResult<ExportMasterPlayerDataResult>>() {
             public PlayFabResult<ExportMasterPlayerDataResult> call() throws Exception {
-                return privateExportMasterPlayerDataAsync(request);
+                return privateExportMasterPlayerDataAsync(null, request);
             }
         });
         try {
@@ -1755,10 +1726,11 @@ public class PlayFabAdminAPI {
 
     /** Exports all associated data of a master player account */
     @SuppressWarnings("unchecked")
-    private static PlayFabResult<ExportMasterPlayerDataResult> privateExportMasterPlayerDataAsync(final ExportMasterPlayerDataRequest request) throws Exception {
-        if (PlayFabSettings.DeveloperSecretKey == null) throw new Exception ("Must have PlayFabSettings.DeveloperSecretKey set to call this method");
+    static PlayFabResult<ExportMasterPlayerDataResult> privateExportMasterPlayerDataAsync(final PlayFabInstanceAPI instance, final ExportMasterPlayerDataRequest request) throws Exception {
+        final PlayFabApiContext context = PlayFabInstanceAPI.contextOf(instance);
+        if (context.getDeveloperSecretKey() == null) throw new Exception ("Must have PlayFabSettings.DeveloperSecretKey set to call this method");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Admin/ExportMasterPlayerData"), request, "X-SecretKey", PlayFabSettings.DeveloperSecretKey);
+        FutureTask<Object> task = PlayFabHTTP.doPost(context.getURL("/Admin/ExportMasterPlayerData"), request, "X-SecretKey", context.getDeveloperSecretKey(), ExportMasterPlayerDataResult.class);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -1769,9 +1741,7 @@ public class PlayFabAdminAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
-
-        PlayFabJsonSuccess<ExportMasterPlayerDataResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<ExportMasterPlayerDataResult>>(){}.getType());
+        PlayFabJsonSuccess<ExportMasterPlayerDataResult> resultData = (PlayFabJsonSuccess<ExportMasterPlayerDataResult>) httpResult;
         ExportMasterPlayerDataResult result = resultData.data;
 
         PlayFabResult<ExportMasterPlayerDataResult> pfResult = new PlayFabResult<ExportMasterPlayerDataResult>();
@@ -1788,7 +1758,7 @@ public class PlayFabAdminAPI {
     public static FutureTask<PlayFabResult<GetActionsOnPlayersInSegmentTaskInstanceResult>> GetActionsOnPlayersInSegmentTaskInstanceAsync(final GetTaskInstanceRequest request) {
         return new FutureTask(new Callable<PlayFabResult<GetActionsOnPlayersInSegmentTaskInstanceResult>>() {
             public PlayFabResult<GetActionsOnPlayersInSegmentTaskInstanceResult> call() throws Exception {
-                return privateGetActionsOnPlayersInSegmentTaskInstanceAsync(request);
+                return privateGetActionsOnPlayersInSegmentTaskInstanceAsync(null, request);
             }
         });
     }
@@ -1802,7 +1772,7 @@ public class PlayFabAdminAPI {
     public static PlayFabResult<GetActionsOnPlayersInSegmentTaskInstanceResult> GetActionsOnPlayersInSegmentTaskInstance(final GetTaskInstanceRequest request) {
         FutureTask<PlayFabResult<GetActionsOnPlayersInSegmentTaskInstanceResult>> task = new FutureTask(new Callable<PlayFabResult<GetActionsOnPlayersInSegmentTaskInstanceResult>>() {
             public PlayFabResult<GetActionsOnPlayersInSegmentTaskInstanceResult> call() throws Exception {
-                return privateGetActionsOnPlayersInSegmentTaskInstanceAsync(request);
+                return privateGetActionsOnPlayersInSegmentTaskInstanceAsync(null, request);
             }
         });
         try {
@@ -1817,10 +1787,11 @@ public class PlayFabAdminAPI {
 
     /** Get information about a ActionsOnPlayersInSegment task instance. */
     @SuppressWarnings("unchecked")
-    private static PlayFabResult<GetActionsOnPlayersInSegmentTaskInstanceResult> privateGetActionsOnPlayersInSegmentTaskInstanceAsync(final GetTaskInstanceRequest request) throws Exception {
-        if (PlayFabSettings.DeveloperSecretKey == null) throw new Exception ("Must have PlayFabSettings.DeveloperSecretKey set to call this method");
+    static PlayFabResult<GetActionsOnPlayersInSegmentTaskInstanceResult> privateGetActionsOnPlayersInSegmentTaskInstanceAsync(final PlayFabInstanceAPI instance, final GetTaskInstanceRequest request) throws Exception {
+        final PlayFabApiContext context = PlayFabInstanceAPI.contextOf(instance);
+        if (context.getDeveloperSecretKey() == null) throw new Exception ("Must have PlayFabSettings.DeveloperSecretKey set to call this method");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Admin/GetActionsOnPlayersInSegmentTaskInstance"), request, "X-SecretKey", PlayFabSettings.DeveloperSecretKey);
+        FutureTask<Object> task = PlayFabHTTP.doPost(context.getURL("/Admin/GetActionsOnPlayersInSegmentTaskInstance"), request, "X-SecretKey", context.getDeveloperSecretKey(), GetActionsOnPlayersInSegmentTaskInstanceResult.class);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -1831,9 +1802,7 @@ public class PlayFabAdminAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
-
-        PlayFabJsonSuccess<GetActionsOnPlayersInSegmentTaskInstanceResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<GetActionsOnPlayersInSegmentTaskInstanceResult>>(){}.getType());
+        PlayFabJsonSuccess<GetActionsOnPlayersInSegmentTaskInstanceResult> resultData = (PlayFabJsonSuccess<GetActionsOnPlayersInSegmentTaskInstanceResult>) httpResult;
         GetActionsOnPlayersInSegmentTaskInstanceResult result = resultData.data;
 
         PlayFabResult<GetActionsOnPlayersInSegmentTaskInstanceResult> pfResult = new PlayFabResult<GetActionsOnPlayersInSegmentTaskInstanceResult>();
@@ -1851,7 +1820,7 @@ public class PlayFabAdminAPI {
     public static FutureTask<PlayFabResult<GetAllSegmentsResult>> GetAllSegmentsAsync(final GetAllSegmentsRequest request) {
         return new FutureTask(new Callable<PlayFabResult<GetAllSegmentsResult>>() {
             public PlayFabResult<GetAllSegmentsResult> call() throws Exception {
-                return privateGetAllSegmentsAsync(request);
+                return privateGetAllSegmentsAsync(null, request);
             }
         });
     }
@@ -1866,7 +1835,7 @@ public class PlayFabAdminAPI {
     public static PlayFabResult<GetAllSegmentsResult> GetAllSegments(final GetAllSegmentsRequest request) {
         FutureTask<PlayFabResult<GetAllSegmentsResult>> task = new FutureTask(new Callable<PlayFabResult<GetAllSegmentsResult>>() {
             public PlayFabResult<GetAllSegmentsResult> call() throws Exception {
-                return privateGetAllSegmentsAsync(request);
+                return privateGetAllSegmentsAsync(null, request);
             }
         });
         try {
@@ -1884,10 +1853,11 @@ public class PlayFabAdminAPI {
      * GetPlayersInSegment which requires a Segment ID. While segment names can change the ID for that segment will not change.
      */
     @SuppressWarnings("unchecked")
-    private static PlayFabResult<GetAllSegmentsResult> privateGetAllSegmentsAsync(final GetAllSegmentsRequest request) throws Exception {
-        if (PlayFabSettings.DeveloperSecretKey == null) throw new Exception ("Must have PlayFabSettings.DeveloperSecretKey set to call this method");
+    static PlayFabResult<GetAllSegmentsResult> privateGetAllSegmentsAsync(final PlayFabInstanceAPI instance, final GetAllSegmentsRequest request) throws Exception {
+        final PlayFabApiContext context = PlayFabInstanceAPI.contextOf(instance);
+        if (context.getDeveloperSecretKey() == null) throw new Exception ("Must have PlayFabSettings.DeveloperSecretKey set to call this method");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Admin/GetAllSegments"), request, "X-SecretKey", PlayFabSettings.DeveloperSecretKey);
+        FutureTask<Object> task = PlayFabHTTP.doPost(context.getURL("/Admin/GetAllSegments"), request, "X-SecretKey", context.getDeveloperSecretKey(), GetAllSegmentsResult.class);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -1898,9 +1868,7 @@ public class PlayFabAdminAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
-
-        PlayFabJsonSuccess<GetAllSegmentsResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<GetAllSegmentsResult>>(){}.getType());
+        PlayFabJsonSuccess<GetAllSegmentsResult> resultData = (PlayFabJsonSuccess<GetAllSegmentsResult>) httpResult;
         GetAllSegmentsResult result = resultData.data;
 
         PlayFabResult<GetAllSegmentsResult> pfResult = new PlayFabResult<GetAllSegmentsResult>();
@@ -1917,7 +1885,7 @@ public class PlayFabAdminAPI {
     public static FutureTask<PlayFabResult<GetCatalogItemsResult>> GetCatalogItemsAsync(final GetCatalogItemsRequest request) {
         return new FutureTask(new Callable<PlayFabResult<GetCatalogItemsResult>>() {
             public PlayFabResult<GetCatalogItemsResult> call() throws Exception {
-                return privateGetCatalogItemsAsync(request);
+                return privateGetCatalogItemsAsync(null, request);
             }
         });
     }
@@ -1931,7 +1899,7 @@ public class PlayFabAdminAPI {
     public static PlayFabResult<GetCatalogItemsResult> GetCatalogItems(final GetCatalogItemsRequest request) {
         FutureTask<PlayFabResult<GetCatalogItemsResult>> task = new FutureTask(new Callable<PlayFabResult<GetCatalogItemsResult>>() {
             public PlayFabResult<GetCatalogItemsResult> call() throws Exception {
-                return privateGetCatalogItemsAsync(request);
+                return privateGetCatalogItemsAsync(null, request);
             }
         });
         try {
@@ -1946,10 +1914,11 @@ public class PlayFabAdminAPI {
 
     /** Retrieves the specified version of the title's catalog of virtual goods, including all defined properties */
     @SuppressWarnings("unchecked")
-    private static PlayFabResult<GetCatalogItemsResult> privateGetCatalogItemsAsync(final GetCatalogItemsRequest request) throws Exception {
-        if (PlayFabSettings.DeveloperSecretKey == null) throw new Exception ("Must have PlayFabSettings.DeveloperSecretKey set to call this method");
+    static PlayFabResult<GetCatalogItemsResult> privateGetCatalogItemsAsync(final PlayFabInstanceAPI instance, final GetCatalogItemsRequest request) throws Exception {
+        final PlayFabApiContext context = PlayFabInstanceAPI.contextOf(instance);
+        if (context.getDeveloperSecretKey() == null) throw new Exception ("Must have PlayFabSettings.DeveloperSecretKey set to call this method");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Admin/GetCatalogItems"), request, "X-SecretKey", PlayFabSettings.DeveloperSecretKey);
+        FutureTask<Object> task = PlayFabHTTP.doPost(context.getURL("/Admin/GetCatalogItems"), request, "X-SecretKey", context.getDeveloperSecretKey(), GetCatalogItemsResult.class);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -1960,9 +1929,7 @@ public class PlayFabAdminAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
-
-        PlayFabJsonSuccess<GetCatalogItemsResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<GetCatalogItemsResult>>(){}.getType());
+        PlayFabJsonSuccess<GetCatalogItemsResult> resultData = (PlayFabJsonSuccess<GetCatalogItemsResult>) httpResult;
         GetCatalogItemsResult result = resultData.data;
 
         PlayFabResult<GetCatalogItemsResult> pfResult = new PlayFabResult<GetCatalogItemsResult>();
@@ -1979,7 +1946,7 @@ public class PlayFabAdminAPI {
     public static FutureTask<PlayFabResult<GetCloudScriptRevisionResult>> GetCloudScriptRevisionAsync(final GetCloudScriptRevisionRequest request) {
         return new FutureTask(new Callable<PlayFabResult<GetCloudScriptRevisionResult>>() {
             public PlayFabResult<GetCloudScriptRevisionResult> call() throws Exception {
-                return privateGetCloudScriptRevisionAsync(request);
+                return privateGetCloudScriptRevisionAsync(null, request);
             }
         });
     }
@@ -1993,7 +1960,7 @@ public class PlayFabAdminAPI {
     public static PlayFabResult<GetCloudScriptRevisionResult> GetCloudScriptRevision(final GetCloudScriptRevisionRequest request) {
         FutureTask<PlayFabResult<GetCloudScriptRevisionResult>> task = new FutureTask(new Callable<PlayFabResult<GetCloudScriptRevisionResult>>() {
             public PlayFabResult<GetCloudScriptRevisionResult> call() throws Exception {
-                return privateGetCloudScriptRevisionAsync(request);
+                return privateGetCloudScriptRevisionAsync(null, request);
             }
         });
         try {
@@ -2008,10 +1975,11 @@ public class PlayFabAdminAPI {
 
     /** Gets the contents and information of a specific Cloud Script revision. */
     @SuppressWarnings("unchecked")
-    private static PlayFabResult<GetCloudScriptRevisionResult> privateGetCloudScriptRevisionAsync(final GetCloudScriptRevisionRequest request) throws Exception {
-        if (PlayFabSettings.DeveloperSecretKey == null) throw new Exception ("Must have PlayFabSettings.DeveloperSecretKey set to call this method");
+    static PlayFabResult<GetCloudScriptRevisionResult> privateGetCloudScriptRevisionAsync(final PlayFabInstanceAPI instance, final GetCloudScriptRevisionRequest request) throws Exception {
+        final PlayFabApiContext context = PlayFabInstanceAPI.contextOf(instance);
+        if (context.getDeveloperSecretKey() == null) throw new Exception ("Must have PlayFabSettings.DeveloperSecretKey set to call this method");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Admin/GetCloudScriptRevision"), request, "X-SecretKey", PlayFabSettings.DeveloperSecretKey);
+        FutureTask<Object> task = PlayFabHTTP.doPost(context.getURL("/Admin/GetCloudScriptRevision"), request, "X-SecretKey", context.getDeveloperSecretKey(), GetCloudScriptRevisionResult.class);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -2022,9 +1990,7 @@ public class PlayFabAdminAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
-
-        PlayFabJsonSuccess<GetCloudScriptRevisionResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<GetCloudScriptRevisionResult>>(){}.getType());
+        PlayFabJsonSuccess<GetCloudScriptRevisionResult> resultData = (PlayFabJsonSuccess<GetCloudScriptRevisionResult>) httpResult;
         GetCloudScriptRevisionResult result = resultData.data;
 
         PlayFabResult<GetCloudScriptRevisionResult> pfResult = new PlayFabResult<GetCloudScriptRevisionResult>();
@@ -2041,7 +2007,7 @@ public class PlayFabAdminAPI {
     public static FutureTask<PlayFabResult<GetCloudScriptTaskInstanceResult>> GetCloudScriptTaskInstanceAsync(final GetTaskInstanceRequest request) {
         return new FutureTask(new Callable<PlayFabResult<GetCloudScriptTaskInstanceResult>>() {
             public PlayFabResult<GetCloudScriptTaskInstanceResult> call() throws Exception {
-                return privateGetCloudScriptTaskInstanceAsync(request);
+                return privateGetCloudScriptTaskInstanceAsync(null, request);
             }
         });
     }
@@ -2055,7 +2021,7 @@ public class PlayFabAdminAPI {
     public static PlayFabResult<GetCloudScriptTaskInstanceResult> GetCloudScriptTaskInstance(final GetTaskInstanceRequest request) {
         FutureTask<PlayFabResult<GetCloudScriptTaskInstanceResult>> task = new FutureTask(new Callable<PlayFabResult<GetCloudScriptTaskInstanceResult>>() {
             public PlayFabResult<GetCloudScriptTaskInstanceResult> call() throws Exception {
-                return privateGetCloudScriptTaskInstanceAsync(request);
+                return privateGetCloudScriptTaskInstanceAsync(null, request);
             }
         });
         try {
@@ -2070,10 +2036,11 @@ public class PlayFabAdminAPI {
 
     /** Get detail information about a CloudScript task instance. */
     @SuppressWarnings("unchecked")
-    private static PlayFabResult<GetCloudScriptTaskInstanceResult> privateGetCloudScriptTaskInstanceAsync(final GetTaskInstanceRequest request) throws Exception {
-        if (PlayFabSettings.DeveloperSecretKey == null) throw new Exception ("Must have PlayFabSettings.DeveloperSecretKey set to call this method");
+    static PlayFabResult<GetCloudScriptTaskInstanceResult> privateGetCloudScriptTaskInstanceAsync(final PlayFabInstanceAPI instance, final GetTaskInstanceRequest request) throws Exception {
+        final PlayFabApiContext context = PlayFabInstanceAPI.contextOf(instance);
+        if (context.getDeveloperSecretKey() == null) throw new Exception ("Must have PlayFabSettings.DeveloperSecretKey set to call this method");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Admin/GetCloudScriptTaskInstance"), request, "X-SecretKey", PlayFabSettings.DeveloperSecretKey);
+        FutureTask<Object> task = PlayFabHTTP.doPost(context.getURL("/Admin/GetCloudScriptTaskInstance"), request, "X-SecretKey", context.getDeveloperSecretKey(), GetCloudScriptTaskInstanceResult.class);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -2084,9 +2051,7 @@ public class PlayFabAdminAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
-
-        PlayFabJsonSuccess<GetCloudScriptTaskInstanceResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<GetCloudScriptTaskInstanceResult>>(){}.getType());
+        PlayFabJsonSuccess<GetCloudScriptTaskInstanceResult> resultData = (PlayFabJsonSuccess<GetCloudScriptTaskInstanceResult>) httpResult;
         GetCloudScriptTaskInstanceResult result = resultData.data;
 
         PlayFabResult<GetCloudScriptTaskInstanceResult> pfResult = new PlayFabResult<GetCloudScriptTaskInstanceResult>();
@@ -2104,7 +2069,7 @@ public class PlayFabAdminAPI {
     public static FutureTask<PlayFabResult<GetCloudScriptVersionsResult>> GetCloudScriptVersionsAsync(final GetCloudScriptVersionsRequest request) {
         return new FutureTask(new Callable<PlayFabResult<GetCloudScriptVersionsResult>>() {
             public PlayFabResult<GetCloudScriptVersionsResult> call() throws Exception {
-                return privateGetCloudScriptVersionsAsync(request);
+                return privateGetCloudScriptVersionsAsync(null, request);
             }
         });
     }
@@ -2119,7 +2084,7 @@ public class PlayFabAdminAPI {
     public static PlayFabResult<GetCloudScriptVersionsResult> GetCloudScriptVersions(final GetCloudScriptVersionsRequest request) {
         FutureTask<PlayFabResult<GetCloudScriptVersionsResult>> task = new FutureTask(new Callable<PlayFabResult<GetCloudScriptVersionsResult>>() {
             public PlayFabResult<GetCloudScriptVersionsResult> call() throws Exception {
-                return privateGetCloudScriptVersionsAsync(request);
+                return privateGetCloudScriptVersionsAsync(null, request);
             }
         });
         try {
@@ -2137,10 +2102,11 @@ public class PlayFabAdminAPI {
      * revisions is also listed.
      */
     @SuppressWarnings("unchecked")
-    private static PlayFabResult<GetCloudScriptVersionsResult> privateGetCloudScriptVersionsAsync(final GetCloudScriptVersionsRequest request) throws Exception {
-        if (PlayFabSettings.DeveloperSecretKey == null) throw new Exception ("Must have PlayFabSettings.DeveloperSecretKey set to call this method");
+    static PlayFabResult<GetCloudScriptVersionsResult> privateGetCloudScriptVersionsAsync(final PlayFabInstanceAPI instance, final GetCloudScriptVersionsRequest request) throws Exception {
+        final PlayFabApiContext context = PlayFabInstanceAPI.contextOf(instance);
+        if (context.getDeveloperSecretKey() == null) throw new Exception ("Must have PlayFabSettings.DeveloperSecretKey set to call this method");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Admin/GetCloudScriptVersions"), request, "X-SecretKey", PlayFabSettings.DeveloperSecretKey);
+        FutureTask<Object> task = PlayFabHTTP.doPost(context.getURL("/Admin/GetCloudScriptVersions"), request, "X-SecretKey", context.getDeveloperSecretKey(), GetCloudScriptVersionsResult.class);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -2151,9 +2117,7 @@ public class PlayFabAdminAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
-
-        PlayFabJsonSuccess<GetCloudScriptVersionsResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<GetCloudScriptVersionsResult>>(){}.getType());
+        PlayFabJsonSuccess<GetCloudScriptVersionsResult> resultData = (PlayFabJsonSuccess<GetCloudScriptVersionsResult>) httpResult;
         GetCloudScriptVersionsResult result = resultData.data;
 
         PlayFabResult<GetCloudScriptVersionsResult> pfResult = new PlayFabResult<GetCloudScriptVersionsResult>();
@@ -2170,7 +2134,7 @@ public class PlayFabAdminAPI {
     public static FutureTask<PlayFabResult<GetContentListResult>> GetContentListAsync(final GetContentListRequest request) {
         return new FutureTask(new Callable<PlayFabResult<GetContentListResult>>() {
             public PlayFabResult<GetContentListResult> call() throws Exception {
-                return privateGetContentListAsync(request);
+                return privateGetContentListAsync(null, request);
             }
         });
     }
@@ -2184,7 +2148,7 @@ public class PlayFabAdminAPI {
     public static PlayFabResult<GetContentListResult> GetContentList(final GetContentListRequest request) {
         FutureTask<PlayFabResult<GetContentListResult>> task = new FutureTask(new Callable<PlayFabResult<GetContentListResult>>() {
             public PlayFabResult<GetContentListResult> call() throws Exception {
-                return privateGetContentListAsync(request);
+                return privateGetContentListAsync(null, request);
             }
         });
         try {
@@ -2199,10 +2163,11 @@ public class PlayFabAdminAPI {
 
     /** List all contents of the title and get statistics such as size */
     @SuppressWarnings("unchecked")
-    private static PlayFabResult<GetContentListResult> privateGetContentListAsync(final GetContentListRequest request) throws Exception {
-        if (PlayFabSettings.DeveloperSecretKey == null) throw new Exception ("Must have PlayFabSettings.DeveloperSecretKey set to call this method");
+    static PlayFabResult<GetContentListResult> privateGetContentListAsync(final PlayFabInstanceAPI instance, final GetContentListRequest request) throws Exception {
+        final PlayFabApiContext context = PlayFabInstanceAPI.contextOf(instance);
+        if (context.getDeveloperSecretKey() == null) throw new Exception ("Must have PlayFabSettings.DeveloperSecretKey set to call this method");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Admin/GetContentList"), request, "X-SecretKey", PlayFabSettings.DeveloperSecretKey);
+        FutureTask<Object> task = PlayFabHTTP.doPost(context.getURL("/Admin/GetContentList"), request, "X-SecretKey", context.getDeveloperSecretKey(), GetContentListResult.class);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -2213,9 +2178,7 @@ public class PlayFabAdminAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
-
-        PlayFabJsonSuccess<GetContentListResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<GetContentListResult>>(){}.getType());
+        PlayFabJsonSuccess<GetContentListResult> resultData = (PlayFabJsonSuccess<GetContentListResult>) httpResult;
         GetContentListResult result = resultData.data;
 
         PlayFabResult<GetContentListResult> pfResult = new PlayFabResult<GetContentListResult>();
@@ -2234,7 +2197,7 @@ public class PlayFabAdminAPI {
     public static FutureTask<PlayFabResult<GetContentUploadUrlResult>> GetContentUploadUrlAsync(final GetContentUploadUrlRequest request) {
         return new FutureTask(new Callable<PlayFabResult<GetContentUploadUrlResult>>() {
             public PlayFabResult<GetContentUploadUrlResult> call() throws Exception {
-                return privateGetContentUploadUrlAsync(request);
+                return privateGetContentUploadUrlAsync(null, request);
             }
         });
     }
@@ -2250,7 +2213,7 @@ public class PlayFabAdminAPI {
     public static PlayFabResult<GetContentUploadUrlResult> GetContentUploadUrl(final GetContentUploadUrlRequest request) {
         FutureTask<PlayFabResult<GetContentUploadUrlResult>> task = new FutureTask(new Callable<PlayFabResult<GetContentUploadUrlResult>>() {
             public PlayFabResult<GetContentUploadUrlResult> call() throws Exception {
-                return privateGetContentUploadUrlAsync(request);
+                return privateGetContentUploadUrlAsync(null, request);
             }
         });
         try {
@@ -2269,10 +2232,11 @@ public class PlayFabAdminAPI {
      * rates apply.
      */
     @SuppressWarnings("unchecked")
-    private static PlayFabResult<GetContentUploadUrlResult> privateGetContentUploadUrlAsync(final GetContentUploadUrlRequest request) throws Exception {
-        if (PlayFabSettings.DeveloperSecretKey == null) throw new Exception ("Must have PlayFabSettings.DeveloperSecretKey set to call this method");
+    static PlayFabResult<GetContentUploadUrlResult> privateGetContentUploadUrlAsync(final PlayFabInstanceAPI instance, final GetContentUploadUrlRequest request) throws Exception {
+        final PlayFabApiContext context = PlayFabInstanceAPI.contextOf(instance);
+        if (context.getDeveloperSecretKey() == null) throw new Exception ("Must have PlayFabSettings.DeveloperSecretKey set to call this method");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Admin/GetContentUploadUrl"), request, "X-SecretKey", PlayFabSettings.DeveloperSecretKey);
+        FutureTask<Object> task = PlayFabHTTP.doPost(context.getURL("/Admin/GetContentUploadUrl"), request, "X-SecretKey", context.getDeveloperSecretKey(), GetContentUploadUrlResult.class);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -2283,9 +2247,7 @@ public class PlayFabAdminAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
-
-        PlayFabJsonSuccess<GetContentUploadUrlResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<GetContentUploadUrlResult>>(){}.getType());
+        PlayFabJsonSuccess<GetContentUploadUrlResult> resultData = (PlayFabJsonSuccess<GetContentUploadUrlResult>) httpResult;
         GetContentUploadUrlResult result = resultData.data;
 
         PlayFabResult<GetContentUploadUrlResult> pfResult = new PlayFabResult<GetContentUploadUrlResult>();
@@ -2302,7 +2264,7 @@ public class PlayFabAdminAPI {
     public static FutureTask<PlayFabResult<GetDataReportResult>> GetDataReportAsync(final GetDataReportRequest request) {
         return new FutureTask(new Callable<PlayFabResult<GetDataReportResult>>() {
             public PlayFabResult<GetDataReportResult> call() throws Exception {
-                return privateGetDataReportAsync(request);
+                return privateGetDataReportAsync(null, request);
             }
         });
     }
@@ -2316,7 +2278,7 @@ public class PlayFabAdminAPI {
     public static PlayFabResult<GetDataReportResult> GetDataReport(final GetDataReportRequest request) {
         FutureTask<PlayFabResult<GetDataReportResult>> task = new FutureTask(new Callable<PlayFabResult<GetDataReportResult>>() {
             public PlayFabResult<GetDataReportResult> call() throws Exception {
-                return privateGetDataReportAsync(request);
+                return privateGetDataReportAsync(null, request);
             }
         });
         try {
@@ -2331,10 +2293,11 @@ public class PlayFabAdminAPI {
 
     /** Retrieves a download URL for the requested report */
     @SuppressWarnings("unchecked")
-    private static PlayFabResult<GetDataReportResult> privateGetDataReportAsync(final GetDataReportRequest request) throws Exception {
-        if (PlayFabSettings.DeveloperSecretKey == null) throw new Exception ("Must have PlayFabSettings.DeveloperSecretKey set to call this method");
+    static PlayFabResult<GetDataReportResult> privateGetDataReportAsync(final PlayFabInstanceAPI instance, final GetDataReportRequest request) throws Exception {
+        final PlayFabApiContext context = PlayFabInstanceAPI.contextOf(instance);
+        if (context.getDeveloperSecretKey() == null) throw new Exception ("Must have PlayFabSettings.DeveloperSecretKey set to call this method");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Admin/GetDataReport"), request, "X-SecretKey", PlayFabSettings.DeveloperSecretKey);
+        FutureTask<Object> task = PlayFabHTTP.doPost(context.getURL("/Admin/GetDataReport"), request, "X-SecretKey", context.getDeveloperSecretKey(), GetDataReportResult.class);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -2345,9 +2308,7 @@ public class PlayFabAdminAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
-
-        PlayFabJsonSuccess<GetDataReportResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<GetDataReportResult>>(){}.getType());
+        PlayFabJsonSuccess<GetDataReportResult> resultData = (PlayFabJsonSuccess<GetDataReportResult>) httpResult;
         GetDataReportResult result = resultData.data;
 
         PlayFabResult<GetDataReportResult> pfResult = new PlayFabResult<GetDataReportResult>();
@@ -2364,7 +2325,7 @@ public class PlayFabAdminAPI {
     public static FutureTask<PlayFabResult<GetMatchmakerGameInfoResult>> GetMatchmakerGameInfoAsync(final GetMatchmakerGameInfoRequest request) {
         return new FutureTask(new Callable<PlayFabResult<GetMatchmakerGameInfoResult>>() {
             public PlayFabResult<GetMatchmakerGameInfoResult> call() throws Exception {
-                return privateGetMatchmakerGameInfoAsync(request);
+                return privateGetMatchmakerGameInfoAsync(null, request);
             }
         });
     }
@@ -2378,7 +2339,7 @@ public class PlayFabAdminAPI {
     public static PlayFabResult<GetMatchmakerGameInfoResult> GetMatchmakerGameInfo(final GetMatchmakerGameInfoRequest request) {
         FutureTask<PlayFabResult<GetMatchmakerGameInfoResult>> task = new FutureTask(new Callable<PlayFabResult<GetMatchmakerGameInfoResult>>() {
             public PlayFabResult<GetMatchmakerGameInfoResult> call() throws Exception {
-                return privateGetMatchmakerGameInfoAsync(request);
+                return privateGetMatchmakerGameInfoAsync(null, request);
             }
         });
         try {
@@ -2393,10 +2354,11 @@ public class PlayFabAdminAPI {
 
     /** Retrieves the details for a specific completed session, including links to standard out and standard error logs */
     @SuppressWarnings("unchecked")
-    private static PlayFabResult<GetMatchmakerGameInfoResult> privateGetMatchmakerGameInfoAsync(final GetMatchmakerGameInfoRequest request) throws Exception {
-        if (PlayFabSettings.DeveloperSecretKey == null) throw new Exception ("Must have PlayFabSettings.DeveloperSecretKey set to call this method");
+    static PlayFabResult<GetMatchmakerGameInfoResult> privateGetMatchmakerGameInfoAsync(final PlayFabInstanceAPI instance, final GetMatchmakerGameInfoRequest request) throws Exception {
+        final PlayFabApiContext context = PlayFabInstanceAPI.contextOf(instance);
+        if (context.getDeveloperSecretKey() == null) throw new Exception ("Must have PlayFabSettings.DeveloperSecretKey set to call this method");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Admin/GetMatchmakerGameInfo"), request, "X-SecretKey", PlayFabSettings.DeveloperSecretKey);
+        FutureTask<Object> task = PlayFabHTTP.doPost(context.getURL("/Admin/GetMatchmakerGameInfo"), request, "X-SecretKey", context.getDeveloperSecretKey(), GetMatchmakerGameInfoResult.class);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -2407,9 +2369,7 @@ public class PlayFabAdminAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
-
-        PlayFabJsonSuccess<GetMatchmakerGameInfoResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<GetMatchmakerGameInfoResult>>(){}.getType());
+        PlayFabJsonSuccess<GetMatchmakerGameInfoResult> resultData = (PlayFabJsonSuccess<GetMatchmakerGameInfoResult>) httpResult;
         GetMatchmakerGameInfoResult result = resultData.data;
 
         PlayFabResult<GetMatchmakerGameInfoResult> pfResult = new PlayFabResult<GetMatchmakerGameInfoResult>();
@@ -2426,7 +2386,7 @@ public class PlayFabAdminAPI {
     public static FutureTask<PlayFabResult<GetMatchmakerGameModesResult>> GetMatchmakerGameModesAsync(final GetMatchmakerGameModesRequest request) {
         return new FutureTask(new Callable<PlayFabResult<GetMatchmakerGameModesResult>>() {
             public PlayFabResult<GetMatchmakerGameModesResult> call() throws Exception {
-                return privateGetMatchmakerGameModesAsync(request);
+                return privateGetMatchmakerGameModesAsync(null, request);
             }
         });
     }
@@ -2440,7 +2400,7 @@ public class PlayFabAdminAPI {
     public static PlayFabResult<GetMatchmakerGameModesResult> GetMatchmakerGameModes(final GetMatchmakerGameModesRequest request) {
         FutureTask<PlayFabResult<GetMatchmakerGameModesResult>> task = new FutureTask(new Callable<PlayFabResult<GetMatchmakerGameModesResult>>() {
             public PlayFabResult<GetMatchmakerGameModesResult> call() throws Exception {
-                return privateGetMatchmakerGameModesAsync(request);
+                return privateGetMatchmakerGameModesAsync(null, request);
             }
         });
         try {
@@ -2455,10 +2415,11 @@ public class PlayFabAdminAPI {
 
     /** Retrieves the details of defined game modes for the specified game server executable */
     @SuppressWarnings("unchecked")
-    private static PlayFabResult<GetMatchmakerGameModesResult> privateGetMatchmakerGameModesAsync(final GetMatchmakerGameModesRequest request) throws Exception {
-        if (PlayFabSettings.DeveloperSecretKey == null) throw new Exception ("Must have PlayFabSettings.DeveloperSecretKey set to call this method");
+    static PlayFabResult<GetMatchmakerGameModesResult> privateGetMatchmakerGameModesAsync(final PlayFabInstanceAPI instance, final GetMatchmakerGameModesRequest request) throws Exception {
+        final PlayFabApiContext context = PlayFabInstanceAPI.contextOf(instance);
+        if (context.getDeveloperSecretKey() == null) throw new Exception ("Must have PlayFabSettings.DeveloperSecretKey set to call this method");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Admin/GetMatchmakerGameModes"), request, "X-SecretKey", PlayFabSettings.DeveloperSecretKey);
+        FutureTask<Object> task = PlayFabHTTP.doPost(context.getURL("/Admin/GetMatchmakerGameModes"), request, "X-SecretKey", context.getDeveloperSecretKey(), GetMatchmakerGameModesResult.class);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -2469,9 +2430,7 @@ public class PlayFabAdminAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
-
-        PlayFabJsonSuccess<GetMatchmakerGameModesResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<GetMatchmakerGameModesResult>>(){}.getType());
+        PlayFabJsonSuccess<GetMatchmakerGameModesResult> resultData = (PlayFabJsonSuccess<GetMatchmakerGameModesResult>) httpResult;
         GetMatchmakerGameModesResult result = resultData.data;
 
         PlayFabResult<GetMatchmakerGameModesResult> pfResult = new PlayFabResult<GetMatchmakerGameModesResult>();
@@ -2488,7 +2447,7 @@ public class PlayFabAdminAPI {
     public static FutureTask<PlayFabResult<GetPlayedTitleListResult>> GetPlayedTitleListAsync(final GetPlayedTitleListRequest request) {
         return new FutureTask(new Callable<PlayFabResult<GetPlayedTitleListResult>>() {
             public PlayFabResult<GetPlayedTitleListResult> call() throws Exception {
-                return privateGetPlayedTitleListAsync(request);
+                return privateGetPlayedTitleListAsync(null, request);
             }
         });
     }
@@ -2502,7 +2461,7 @@ public class PlayFabAdminAPI {
     public static PlayFabResult<GetPlayedTitleListResult> GetPlayedTitleList(final GetPlayedTitleListRequest request) {
         FutureTask<PlayFabResult<GetPlayedTitleListResult>> task = new FutureTask(new Callable<PlayFabResult<GetPlayedTitleListResult>>() {
             public PlayFabResult<GetPlayedTitleListResult> call() throws Exception {
-                return privateGetPlayedTitleListAsync(request);
+                return privateGetPlayedTitleListAsync(null, request);
             }
         });
         try {
@@ -2517,10 +2476,11 @@ public class PlayFabAdminAPI {
 
     /** Get the list of titles that the player has played */
     @SuppressWarnings("unchecked")
-    private static PlayFabResult<GetPlayedTitleListResult> privateGetPlayedTitleListAsync(final GetPlayedTitleListRequest request) throws Exception {
-        if (PlayFabSettings.DeveloperSecretKey == null) throw new Exception ("Must have PlayFabSettings.DeveloperSecretKey set to call this method");
+    static PlayFabResult<GetPlayedTitleListResult> privateGetPlayedTitleListAsync(final PlayFabInstanceAPI instance, final GetPlayedTitleListRequest request) throws Exception {
+        final PlayFabApiContext context = PlayFabInstanceAPI.contextOf(instance);
+        if (context.getDeveloperSecretKey() == null) throw new Exception ("Must have PlayFabSettings.DeveloperSecretKey set to call this method");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Admin/GetPlayedTitleList"), request, "X-SecretKey", PlayFabSettings.DeveloperSecretKey);
+        FutureTask<Object> task = PlayFabHTTP.doPost(context.getURL("/Admin/GetPlayedTitleList"), request, "X-SecretKey", context.getDeveloperSecretKey(), GetPlayedTitleListResult.class);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -2531,9 +2491,7 @@ public class PlayFabAdminAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
-
-        PlayFabJsonSuccess<GetPlayedTitleListResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<GetPlayedTitleListResult>>(){}.getType());
+        PlayFabJsonSuccess<GetPlayedTitleListResult> resultData = (PlayFabJsonSuccess<GetPlayedTitleListResult>) httpResult;
         GetPlayedTitleListResult result = resultData.data;
 
         PlayFabResult<GetPlayedTitleListResult> pfResult = new PlayFabResult<GetPlayedTitleListResult>();
@@ -2550,7 +2508,7 @@ public class PlayFabAdminAPI {
     public static FutureTask<PlayFabResult<GetPlayerIdFromAuthTokenResult>> GetPlayerIdFromAuthTokenAsync(final GetPlayerIdFromAuthTokenRequest request) {
         return new FutureTask(new Callable<PlayFabResult<GetPlayerIdFromAuthTokenResult>>() {
             public PlayFabResult<GetPlayerIdFromAuthTokenResult> call() throws Exception {
-                return privateGetPlayerIdFromAuthTokenAsync(request);
+                return privateGetPlayerIdFromAuthTokenAsync(null, request);
             }
         });
     }
@@ -2564,7 +2522,7 @@ public class PlayFabAdminAPI {
     public static PlayFabResult<GetPlayerIdFromAuthTokenResult> GetPlayerIdFromAuthToken(final GetPlayerIdFromAuthTokenRequest request) {
         FutureTask<PlayFabResult<GetPlayerIdFromAuthTokenResult>> task = new FutureTask(new Callable<PlayFabResult<GetPlayerIdFromAuthTokenResult>>() {
             public PlayFabResult<GetPlayerIdFromAuthTokenResult> call() throws Exception {
-                return privateGetPlayerIdFromAuthTokenAsync(request);
+                return privateGetPlayerIdFromAuthTokenAsync(null, request);
             }
         });
         try {
@@ -2579,10 +2537,11 @@ public class PlayFabAdminAPI {
 
     /** Gets a player's ID from an auth token. */
     @SuppressWarnings("unchecked")
-    private static PlayFabResult<GetPlayerIdFromAuthTokenResult> privateGetPlayerIdFromAuthTokenAsync(final GetPlayerIdFromAuthTokenRequest request) throws Exception {
-        if (PlayFabSettings.DeveloperSecretKey == null) throw new Exception ("Must have PlayFabSettings.DeveloperSecretKey set to call this method");
+    static PlayFabResult<GetPlayerIdFromAuthTokenResult> privateGetPlayerIdFromAuthTokenAsync(final PlayFabInstanceAPI instance, final GetPlayerIdFromAuthTokenRequest request) throws Exception {
+        final PlayFabApiContext context = PlayFabInstanceAPI.contextOf(instance);
+        if (context.getDeveloperSecretKey() == null) throw new Exception ("Must have PlayFabSettings.DeveloperSecretKey set to call this method");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Admin/GetPlayerIdFromAuthToken"), request, "X-SecretKey", PlayFabSettings.DeveloperSecretKey);
+        FutureTask<Object> task = PlayFabHTTP.doPost(context.getURL("/Admin/GetPlayerIdFromAuthToken"), request, "X-SecretKey", context.getDeveloperSecretKey(), GetPlayerIdFromAuthTokenResult.class);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -2593,9 +2552,7 @@ public class PlayFabAdminAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
-
-        PlayFabJsonSuccess<GetPlayerIdFromAuthTokenResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<GetPlayerIdFromAuthTokenResult>>(){}.getType());
+        PlayFabJsonSuccess<GetPlayerIdFromAuthTokenResult> resultData = (PlayFabJsonSuccess<GetPlayerIdFromAuthTokenResult>) httpResult;
         GetPlayerIdFromAuthTokenResult result = resultData.data;
 
         PlayFabResult<GetPlayerIdFromAuthTokenResult> pfResult = new PlayFabResult<GetPlayerIdFromAuthTokenResult>();
@@ -2612,7 +2569,7 @@ public class PlayFabAdminAPI {
     public static FutureTask<PlayFabResult<GetPlayerProfileResult>> GetPlayerProfileAsync(final GetPlayerProfileRequest request) {
         return new FutureTask(new Callable<PlayFabResult<GetPlayerProfileResult>>() {
             public PlayFabResult<GetPlayerProfileResult> call() throws Exception {
-                return privateGetPlayerProfileAsync(request);
+                return privateGetPlayerProfileAsync(null, request);
             }
         });
     }
@@ -2626,7 +2583,7 @@ public class PlayFabAdminAPI {
     public static PlayFabResult<GetPlayerProfileResult> GetPlayerProfile(final GetPlayerProfileRequest request) {
         FutureTask<PlayFabResult<GetPlayerProfileResult>> task = new FutureTask(new Callable<PlayFabResult<GetPlayerProfileResult>>() {
             public PlayFabResult<GetPlayerProfileResult> call() throws Exception {
-                return privateGetPlayerProfileAsync(request);
+                return privateGetPlayerProfileAsync(null, request);
             }
         });
         try {
@@ -2641,10 +2598,11 @@ public class PlayFabAdminAPI {
 
     /** Retrieves the player's profile */
     @SuppressWarnings("unchecked")
-    private static PlayFabResult<GetPlayerProfileResult> privateGetPlayerProfileAsync(final GetPlayerProfileRequest request) throws Exception {
-        if (PlayFabSettings.DeveloperSecretKey == null) throw new Exception ("Must have PlayFabSettings.DeveloperSecretKey set to call this method");
+    static PlayFabResult<GetPlayerProfileResult> privateGetPlayerProfileAsync(final PlayFabInstanceAPI instance, final GetPlayerProfileRequest request) throws Exception {
+        final PlayFabApiContext context = PlayFabInstanceAPI.contextOf(instance);
+        if (context.getDeveloperSecretKey() == null) throw new Exception ("Must have PlayFabSettings.DeveloperSecretKey set to call this method");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Admin/GetPlayerProfile"), request, "X-SecretKey", PlayFabSettings.DeveloperSecretKey);
+        FutureTask<Object> task = PlayFabHTTP.doPost(context.getURL("/Admin/GetPlayerProfile"), request, "X-SecretKey", context.getDeveloperSecretKey(), GetPlayerProfileResult.class);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -2655,9 +2613,7 @@ public class PlayFabAdminAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
-
-        PlayFabJsonSuccess<GetPlayerProfileResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<GetPlayerProfileResult>>(){}.getType());
+        PlayFabJsonSuccess<GetPlayerProfileResult> resultData = (PlayFabJsonSuccess<GetPlayerProfileResult>) httpResult;
         GetPlayerProfileResult result = resultData.data;
 
         PlayFabResult<GetPlayerProfileResult> pfResult = new PlayFabResult<GetPlayerProfileResult>();
@@ -2674,7 +2630,7 @@ public class PlayFabAdminAPI {
     public static FutureTask<PlayFabResult<GetPlayerSegmentsResult>> GetPlayerSegmentsAsync(final GetPlayersSegmentsRequest request) {
         return new FutureTask(new Callable<PlayFabResult<GetPlayerSegmentsResult>>() {
             public PlayFabResult<GetPlayerSegmentsResult> call() throws Exception {
-                return privateGetPlayerSegmentsAsync(request);
+                return privateGetPlayerSegmentsAsync(null, request);
             }
         });
     }
@@ -2688,7 +2644,7 @@ public class PlayFabAdminAPI {
     public static PlayFabResult<GetPlayerSegmentsResult> GetPlayerSegments(final GetPlayersSegmentsRequest request) {
         FutureTask<PlayFabResult<GetPlayerSegmentsResult>> task = new FutureTask(new Callable<PlayFabResult<GetPlayerSegmentsResult>>() {
             public PlayFabResult<GetPlayerSegmentsResult> call() throws Exception {
-                return privateGetPlayerSegmentsAsync(request);
+                return privateGetPlayerSegmentsAsync(null, request);
             }
         });
         try {
@@ -2703,10 +2659,11 @@ public class PlayFabAdminAPI {
 
     /** List all segments that a player currently belongs to at this moment in time. */
     @SuppressWarnings("unchecked")
-    private static PlayFabResult<GetPlayerSegmentsResult> privateGetPlayerSegmentsAsync(final GetPlayersSegmentsRequest request) throws Exception {
-        if (PlayFabSettings.DeveloperSecretKey == null) throw new Exception ("Must have PlayFabSettings.DeveloperSecretKey set to call this method");
+    static PlayFabResult<GetPlayerSegmentsResult> privateGetPlayerSegmentsAsync(final PlayFabInstanceAPI instance, final GetPlayersSegmentsRequest request) throws Exception {
+        final PlayFabApiContext context = PlayFabInstanceAPI.contextOf(instance);
+        if (context.getDeveloperSecretKey() == null) throw new Exception ("Must have PlayFabSettings.DeveloperSecretKey set to call this method");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Admin/GetPlayerSegments"), request, "X-SecretKey", PlayFabSettings.DeveloperSecretKey);
+        FutureTask<Object> task = PlayFabHTTP.doPost(context.getURL("/Admin/GetPlayerSegments"), request, "X-SecretKey", context.getDeveloperSecretKey(), GetPlayerSegmentsResult.class);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -2717,9 +2674,7 @@ public class PlayFabAdminAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
-
-        PlayFabJsonSuccess<GetPlayerSegmentsResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<GetPlayerSegmentsResult>>(){}.getType());
+        PlayFabJsonSuccess<GetPlayerSegmentsResult> resultData = (PlayFabJsonSuccess<GetPlayerSegmentsResult>) httpResult;
         GetPlayerSegmentsResult result = resultData.data;
 
         PlayFabResult<GetPlayerSegmentsResult> pfResult = new PlayFabResult<GetPlayerSegmentsResult>();
@@ -2736,7 +2691,7 @@ public class PlayFabAdminAPI {
     public static FutureTask<PlayFabResult<GetPlayerSharedSecretsResult>> GetPlayerSharedSecretsAsync(final GetPlayerSharedSecretsRequest request) {
         return new FutureTask(new Callable<PlayFabResult<GetPlayerSharedSecretsResult>>() {
             public PlayFabResult<GetPlayerSharedSecretsResult> call() throws Exception {
-                return privateGetPlayerSharedSecretsAsync(request);
+                return privateGetPlayerSharedSecretsAsync(null, request);
             }
         });
     }
@@ -2750,7 +2705,7 @@ public class PlayFabAdminAPI {
     public static PlayFabResult<GetPlayerSharedSecretsResult> GetPlayerSharedSecrets(final GetPlayerSharedSecretsRequest request) {
         FutureTask<PlayFabResult<GetPlayerSharedSecretsResult>> task = new FutureTask(new Callable<PlayFabResult<GetPlayerSharedSecretsResult>>() {
             public PlayFabResult<GetPlayerSharedSecretsResult> call() throws Exception {
-                return privateGetPlayerSharedSecretsAsync(request);
+                return privateGetPlayerSharedSecretsAsync(null, request);
             }
         });
         try {
@@ -2765,10 +2720,11 @@ public class PlayFabAdminAPI {
 
     /** Returns all Player Shared Secret Keys including disabled and expired. */
     @SuppressWarnings("unchecked")
-    private static PlayFabResult<GetPlayerSharedSecretsResult> privateGetPlayerSharedSecretsAsync(final GetPlayerSharedSecretsRequest request) throws Exception {
-        if (PlayFabSettings.DeveloperSecretKey == null) throw new Exception ("Must have PlayFabSettings.DeveloperSecretKey set to call this method");
+    static PlayFabResult<GetPlayerSharedSecretsResult> privateGetPlayerSharedSecretsAsync(final PlayFabInstanceAPI instance, final GetPlayerSharedSecretsRequest request) throws Exception {
+        final PlayFabApiContext context = PlayFabInstanceAPI.contextOf(instance);
+        if (context.getDeveloperSecretKey() == null) throw new Exception ("Must have PlayFabSettings.DeveloperSecretKey set to call this method");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Admin/GetPlayerSharedSecrets"), request, "X-SecretKey", PlayFabSettings.DeveloperSecretKey);
+        FutureTask<Object> task = PlayFabHTTP.doPost(context.getURL("/Admin/GetPlayerSharedSecrets"), request, "X-SecretKey", context.getDeveloperSecretKey(), GetPlayerSharedSecretsResult.class);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -2779,9 +2735,7 @@ public class PlayFabAdminAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
-
-        PlayFabJsonSuccess<GetPlayerSharedSecretsResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<GetPlayerSharedSecretsResult>>(){}.getType());
+        PlayFabJsonSuccess<GetPlayerSharedSecretsResult> resultData = (PlayFabJsonSuccess<GetPlayerSharedSecretsResult>) httpResult;
         GetPlayerSharedSecretsResult result = resultData.data;
 
         PlayFabResult<GetPlayerSharedSecretsResult> pfResult = new PlayFabResult<GetPlayerSharedSecretsResult>();
@@ -2802,7 +2756,7 @@ public class PlayFabAdminAPI {
     public static FutureTask<PlayFabResult<GetPlayersInSegmentResult>> GetPlayersInSegmentAsync(final GetPlayersInSegmentRequest request) {
         return new FutureTask(new Callable<PlayFabResult<GetPlayersInSegmentResult>>() {
             public PlayFabResult<GetPlayersInSegmentResult> call() throws Exception {
-                return privateGetPlayersInSegmentAsync(request);
+                return privateGetPlayersInSegmentAsync(null, request);
             }
         });
     }
@@ -2820,7 +2774,7 @@ public class PlayFabAdminAPI {
     public static PlayFabResult<GetPlayersInSegmentResult> GetPlayersInSegment(final GetPlayersInSegmentRequest request) {
         FutureTask<PlayFabResult<GetPlayersInSegmentResult>> task = new FutureTask(new Callable<PlayFabResult<GetPlayersInSegmentResult>>() {
             public PlayFabResult<GetPlayersInSegmentResult> call() throws Exception {
-                return privateGetPlayersInSegmentAsync(request);
+                return privateGetPlayersInSegmentAsync(null, request);
             }
         });
         try {
@@ -2841,10 +2795,11 @@ public class PlayFabAdminAPI {
      * called 30 times in one minute. You will be returned an error if you exceed this threshold.
      */
     @SuppressWarnings("unchecked")
-    private static PlayFabResult<GetPlayersInSegmentResult> privateGetPlayersInSegmentAsync(final GetPlayersInSegmentRequest request) throws Exception {
-        if (PlayFabSettings.DeveloperSecretKey == null) throw new Exception ("Must have PlayFabSettings.DeveloperSecretKey set to call this method");
+    static PlayFabResult<GetPlayersInSegmentResult> privateGetPlayersInSegmentAsync(final PlayFabInstanceAPI instance, final GetPlayersInSegmentRequest request) throws Exception {
+        final PlayFabApiContext context = PlayFabInstanceAPI.contextOf(instance);
+        if (context.getDeveloperSecretKey() == null) throw new Exception ("Must have PlayFabSettings.DeveloperSecretKey set to call this method");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Admin/GetPlayersInSegment"), request, "X-SecretKey", PlayFabSettings.DeveloperSecretKey);
+        FutureTask<Object> task = PlayFabHTTP.doPost(context.getURL("/Admin/GetPlayersInSegment"), request, "X-SecretKey", context.getDeveloperSecretKey(), GetPlayersInSegmentResult.class);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -2855,9 +2810,7 @@ public class PlayFabAdminAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
-
-        PlayFabJsonSuccess<GetPlayersInSegmentResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<GetPlayersInSegmentResult>>(){}.getType());
+        PlayFabJsonSuccess<GetPlayersInSegmentResult> resultData = (PlayFabJsonSuccess<GetPlayersInSegmentResult>) httpResult;
         GetPlayersInSegmentResult result = resultData.data;
 
         PlayFabResult<GetPlayersInSegmentResult> pfResult = new PlayFabResult<GetPlayersInSegmentResult>();
@@ -2875,7 +2828,7 @@ public class PlayFabAdminAPI {
     public static FutureTask<PlayFabResult<GetPlayerStatisticDefinitionsResult>> GetPlayerStatisticDefinitionsAsync(final GetPlayerStatisticDefinitionsRequest request) {
         return new FutureTask(new Callable<PlayFabResult<GetPlayerStatisticDefinitionsResult>>() {
             public PlayFabResult<GetPlayerStatisticDefinitionsResult> call() throws Exception {
-                return privateGetPlayerStatisticDefinitionsAsync(request);
+                return privateGetPlayerStatisticDefinitionsAsync(null, request);
             }
         });
     }
@@ -2890,7 +2843,7 @@ public class PlayFabAdminAPI {
     public static PlayFabResult<GetPlayerStatisticDefinitionsResult> GetPlayerStatisticDefinitions(final GetPlayerStatisticDefinitionsRequest request) {
         FutureTask<PlayFabResult<GetPlayerStatisticDefinitionsResult>> task = new FutureTask(new Callable<PlayFabResult<GetPlayerStatisticDefinitionsResult>>() {
             public PlayFabResult<GetPlayerStatisticDefinitionsResult> call() throws Exception {
-                return privateGetPlayerStatisticDefinitionsAsync(request);
+                return privateGetPlayerStatisticDefinitionsAsync(null, request);
             }
         });
         try {
@@ -2908,10 +2861,11 @@ public class PlayFabAdminAPI {
      * a reset interval.
      */
     @SuppressWarnings("unchecked")
-    private static PlayFabResult<GetPlayerStatisticDefinitionsResult> privateGetPlayerStatisticDefinitionsAsync(final GetPlayerStatisticDefinitionsRequest request) throws Exception {
-        if (PlayFabSettings.DeveloperSecretKey == null) throw new Exception ("Must have PlayFabSettings.DeveloperSecretKey set to call this method");
+    static PlayFabResult<GetPlayerStatisticDefinitionsResult> privateGetPlayerStatisticDefinitionsAsync(final PlayFabInstanceAPI instance, final GetPlayerStatisticDefinitionsRequest request) throws Exception {
+        final PlayFabApiContext context = PlayFabInstanceAPI.contextOf(instance);
+        if (context.getDeveloperSecretKey() == null) throw new Exception ("Must have PlayFabSettings.DeveloperSecretKey set to call this method");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Admin/GetPlayerStatisticDefinitions"), request, "X-SecretKey", PlayFabSettings.DeveloperSecretKey);
+        FutureTask<Object> task = PlayFabHTTP.doPost(context.getURL("/Admin/GetPlayerStatisticDefinitions"), request, "X-SecretKey", context.getDeveloperSecretKey(), GetPlayerStatisticDefinitionsResult.class);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -2922,9 +2876,7 @@ public class PlayFabAdminAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
-
-        PlayFabJsonSuccess<GetPlayerStatisticDefinitionsResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<GetPlayerStatisticDefinitionsResult>>(){}.getType());
+        PlayFabJsonSuccess<GetPlayerStatisticDefinitionsResult> resultData = (PlayFabJsonSuccess<GetPlayerStatisticDefinitionsResult>) httpResult;
         GetPlayerStatisticDefinitionsResult result = resultData.data;
 
         PlayFabResult<GetPlayerStatisticDefinitionsResult> pfResult = new PlayFabResult<GetPlayerStatisticDefinitionsResult>();
@@ -2941,7 +2893,7 @@ public class PlayFabAdminAPI {
     public static FutureTask<PlayFabResult<GetPlayerStatisticVersionsResult>> GetPlayerStatisticVersionsAsync(final GetPlayerStatisticVersionsRequest request) {
         return new FutureTask(new Callable<PlayFabResult<GetPlayerStatisticVersionsResult>>() {
             public PlayFabResult<GetPlayerStatisticVersionsResult> call() throws Exception {
-                return privateGetPlayerStatisticVersionsAsync(request);
+                return privateGetPlayerStatisticVersionsAsync(null, request);
             }
         });
     }
@@ -2955,7 +2907,7 @@ public class PlayFabAdminAPI {
     public static PlayFabResult<GetPlayerStatisticVersionsResult> GetPlayerStatisticVersions(final GetPlayerStatisticVersionsRequest request) {
         FutureTask<PlayFabResult<GetPlayerStatisticVersionsResult>> task = new FutureTask(new Callable<PlayFabResult<GetPlayerStatisticVersionsResult>>() {
             public PlayFabResult<GetPlayerStatisticVersionsResult> call() throws Exception {
-                return privateGetPlayerStatisticVersionsAsync(request);
+                return privateGetPlayerStatisticVersionsAsync(null, request);
             }
         });
         try {
@@ -2970,10 +2922,11 @@ public class PlayFabAdminAPI {
 
     /** Retrieves the information on the available versions of the specified statistic. */
     @SuppressWarnings("unchecked")
-    private static PlayFabResult<GetPlayerStatisticVersionsResult> privateGetPlayerStatisticVersionsAsync(final GetPlayerStatisticVersionsRequest request) throws Exception {
-        if (PlayFabSettings.DeveloperSecretKey == null) throw new Exception ("Must have PlayFabSettings.DeveloperSecretKey set to call this method");
+    static PlayFabResult<GetPlayerStatisticVersionsResult> privateGetPlayerStatisticVersionsAsync(final PlayFabInstanceAPI instance, final GetPlayerStatisticVersionsRequest request) throws Exception {
+        final PlayFabApiContext context = PlayFabInstanceAPI.contextOf(instance);
+        if (context.getDeveloperSecretKey() == null) throw new Exception ("Must have PlayFabSettings.DeveloperSecretKey set to call this method");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Admin/GetPlayerStatisticVersions"), request, "X-SecretKey", PlayFabSettings.DeveloperSecretKey);
+        FutureTask<Object> task = PlayFabHTTP.doPost(context.getURL("/Admin/GetPlayerStatisticVersions"), request, "X-SecretKey", context.getDeveloperSecretKey(), GetPlayerStatisticVersionsResult.class);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -2984,9 +2937,7 @@ public class PlayFabAdminAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
-
-        PlayFabJsonSuccess<GetPlayerStatisticVersionsResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<GetPlayerStatisticVersionsResult>>(){}.getType());
+        PlayFabJsonSuccess<GetPlayerStatisticVersionsResult> resultData = (PlayFabJsonSuccess<GetPlayerStatisticVersionsResult>) httpResult;
         GetPlayerStatisticVersionsResult result = resultData.data;
 
         PlayFabResult<GetPlayerStatisticVersionsResult> pfResult = new PlayFabResult<GetPlayerStatisticVersionsResult>();
@@ -3003,7 +2954,7 @@ public class PlayFabAdminAPI {
     public static FutureTask<PlayFabResult<GetPlayerTagsResult>> GetPlayerTagsAsync(final GetPlayerTagsRequest request) {
         return new FutureTask(new Callable<PlayFabResult<GetPlayerTagsResult>>() {
             public PlayFabResult<GetPlayerTagsResult> call() throws Exception {
-                return privateGetPlayerTagsAsync(request);
+                return privateGetPlayerTagsAsync(null, request);
             }
         });
     }
@@ -3017,7 +2968,7 @@ public class PlayFabAdminAPI {
     public static PlayFabResult<GetPlayerTagsResult> GetPlayerTags(final GetPlayerTagsRequest request) {
         FutureTask<PlayFabResult<GetPlayerTagsResult>> task = new FutureTask(new Callable<PlayFabResult<GetPlayerTagsResult>>() {
             public PlayFabResult<GetPlayerTagsResult> call() throws Exception {
-                return privateGetPlayerTagsAsync(request);
+                return privateGetPlayerTagsAsync(null, request);
             }
         });
         try {
@@ -3032,10 +2983,11 @@ public class PlayFabAdminAPI {
 
     /** Get all tags with a given Namespace (optional) from a player profile. */
     @SuppressWarnings("unchecked")
-    private static PlayFabResult<GetPlayerTagsResult> privateGetPlayerTagsAsync(final GetPlayerTagsRequest request) throws Exception {
-        if (PlayFabSettings.DeveloperSecretKey == null) throw new Exception ("Must have PlayFabSettings.DeveloperSecretKey set to call this method");
+    static PlayFabResult<GetPlayerTagsResult> privateGetPlayerTagsAsync(final PlayFabInstanceAPI instance, final GetPlayerTagsRequest request) throws Exception {
+        final PlayFabApiContext context = PlayFabInstanceAPI.contextOf(instance);
+        if (context.getDeveloperSecretKey() == null) throw new Exception ("Must have PlayFabSettings.DeveloperSecretKey set to call this method");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Admin/GetPlayerTags"), request, "X-SecretKey", PlayFabSettings.DeveloperSecretKey);
+        FutureTask<Object> task = PlayFabHTTP.doPost(context.getURL("/Admin/GetPlayerTags"), request, "X-SecretKey", context.getDeveloperSecretKey(), GetPlayerTagsResult.class);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -3046,9 +2998,7 @@ public class PlayFabAdminAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
-
-        PlayFabJsonSuccess<GetPlayerTagsResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<GetPlayerTagsResult>>(){}.getType());
+        PlayFabJsonSuccess<GetPlayerTagsResult> resultData = (PlayFabJsonSuccess<GetPlayerTagsResult>) httpResult;
         GetPlayerTagsResult result = resultData.data;
 
         PlayFabResult<GetPlayerTagsResult> pfResult = new PlayFabResult<GetPlayerTagsResult>();
@@ -3065,7 +3015,7 @@ public class PlayFabAdminAPI {
     public static FutureTask<PlayFabResult<GetPolicyResponse>> GetPolicyAsync(final GetPolicyRequest request) {
         return new FutureTask(new Callable<PlayFabResult<GetPolicyResponse>>() {
             public PlayFabResult<GetPolicyResponse> call() throws Exception {
-                return privateGetPolicyAsync(request);
+                return privateGetPolicyAsync(null, request);
             }
         });
     }
@@ -3079,7 +3029,7 @@ public class PlayFabAdminAPI {
     public static PlayFabResult<GetPolicyResponse> GetPolicy(final GetPolicyRequest request) {
         FutureTask<PlayFabResult<GetPolicyResponse>> task = new FutureTask(new Callable<PlayFabResult<GetPolicyResponse>>() {
             public PlayFabResult<GetPolicyResponse> call() throws Exception {
-                return privateGetPolicyAsync(request);
+                return privateGetPolicyAsync(null, request);
             }
         });
         try {
@@ -3094,10 +3044,11 @@ public class PlayFabAdminAPI {
 
     /** Gets the requested policy. */
     @SuppressWarnings("unchecked")
-    private static PlayFabResult<GetPolicyResponse> privateGetPolicyAsync(final GetPolicyRequest request) throws Exception {
-        if (PlayFabSettings.DeveloperSecretKey == null) throw new Exception ("Must have PlayFabSettings.DeveloperSecretKey set to call this method");
+    static PlayFabResult<GetPolicyResponse> privateGetPolicyAsync(final PlayFabInstanceAPI instance, final GetPolicyRequest request) throws Exception {
+        final PlayFabApiContext context = PlayFabInstanceAPI.contextOf(instance);
+        if (context.getDeveloperSecretKey() == null) throw new Exception ("Must have PlayFabSettings.DeveloperSecretKey set to call this method");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Admin/GetPolicy"), request, "X-SecretKey", PlayFabSettings.DeveloperSecretKey);
+        FutureTask<Object> task = PlayFabHTTP.doPost(context.getURL("/Admin/GetPolicy"), request, "X-SecretKey", context.getDeveloperSecretKey(), GetPolicyResponse.class);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -3108,9 +3059,7 @@ public class PlayFabAdminAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
-
-        PlayFabJsonSuccess<GetPolicyResponse> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<GetPolicyResponse>>(){}.getType());
+        PlayFabJsonSuccess<GetPolicyResponse> resultData = (PlayFabJsonSuccess<GetPolicyResponse>) httpResult;
         GetPolicyResponse result = resultData.data;
 
         PlayFabResult<GetPolicyResponse> pfResult = new PlayFabResult<GetPolicyResponse>();
@@ -3127,7 +3076,7 @@ public class PlayFabAdminAPI {
     public static FutureTask<PlayFabResult<GetPublisherDataResult>> GetPublisherDataAsync(final GetPublisherDataRequest request) {
         return new FutureTask(new Callable<PlayFabResult<GetPublisherDataResult>>() {
             public PlayFabResult<GetPublisherDataResult> call() throws Exception {
-                return privateGetPublisherDataAsync(request);
+                return privateGetPublisherDataAsync(null, request);
             }
         });
     }
@@ -3141,7 +3090,7 @@ public class PlayFabAdminAPI {
     public static PlayFabResult<GetPublisherDataResult> GetPublisherData(final GetPublisherDataRequest request) {
         FutureTask<PlayFabResult<GetPublisherDataResult>> task = new FutureTask(new Callable<PlayFabResult<GetPublisherDataResult>>() {
             public PlayFabResult<GetPublisherDataResult> call() throws Exception {
-                return privateGetPublisherDataAsync(request);
+                return privateGetPublisherDataAsync(null, request);
             }
         });
         try {
@@ -3156,10 +3105,11 @@ public class PlayFabAdminAPI {
 
     /** Retrieves the key-value store of custom publisher settings */
     @SuppressWarnings("unchecked")
-    private static PlayFabResult<GetPublisherDataResult> privateGetPublisherDataAsync(final GetPublisherDataRequest request) throws Exception {
-        if (PlayFabSettings.DeveloperSecretKey == null) throw new Exception ("Must have PlayFabSettings.DeveloperSecretKey set to call this method");
+    static PlayFabResult<GetPublisherDataResult> privateGetPublisherDataAsync(final PlayFabInstanceAPI instance, final GetPublisherDataRequest request) throws Exception {
+        final PlayFabApiContext context = PlayFabInstanceAPI.contextOf(instance);
+        if (context.getDeveloperSecretKey() == null) throw new Exception ("Must have PlayFabSettings.DeveloperSecretKey set to call this method");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Admin/GetPublisherData"), request, "X-SecretKey", PlayFabSettings.DeveloperSecretKey);
+        FutureTask<Object> task = PlayFabHTTP.doPost(context.getURL("/Admin/GetPublisherData"), request, "X-SecretKey", context.getDeveloperSecretKey(), GetPublisherDataResult.class);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -3170,9 +3120,7 @@ public class PlayFabAdminAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
-
-        PlayFabJsonSuccess<GetPublisherDataResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<GetPublisherDataResult>>(){}.getType());
+        PlayFabJsonSuccess<GetPublisherDataResult> resultData = (PlayFabJsonSuccess<GetPublisherDataResult>) httpResult;
         GetPublisherDataResult result = resultData.data;
 
         PlayFabResult<GetPublisherDataResult> pfResult = new PlayFabResult<GetPublisherDataResult>();
@@ -3189,7 +3137,7 @@ public class PlayFabAdminAPI {
     public static FutureTask<PlayFabResult<GetRandomResultTablesResult>> GetRandomResultTablesAsync(final GetRandomResultTablesRequest request) {
         return new FutureTask(new Callable<PlayFabResult<GetRandomResultTablesResult>>() {
             public PlayFabResult<GetRandomResultTablesResult> call() throws Exception {
-                return privateGetRandomResultTablesAsync(request);
+                return privateGetRandomResultTablesAsync(null, request);
             }
         });
     }
@@ -3203,7 +3151,7 @@ public class PlayFabAdminAPI {
     public static PlayFabResult<GetRandomResultTablesResult> GetRandomResultTables(final GetRandomResultTablesRequest request) {
         FutureTask<PlayFabResult<GetRandomResultTablesResult>> task = new FutureTask(new Callable<PlayFabResult<GetRandomResultTablesResult>>() {
             public PlayFabResult<GetRandomResultTablesResult> call() throws Exception {
-                return privateGetRandomResultTablesAsync(request);
+                return privateGetRandomResultTablesAsync(null, request);
             }
         });
         try {
@@ -3218,10 +3166,11 @@ public class PlayFabAdminAPI {
 
     /** Retrieves the random drop table configuration for the title */
     @SuppressWarnings("unchecked")
-    private static PlayFabResult<GetRandomResultTablesResult> privateGetRandomResultTablesAsync(final GetRandomResultTablesRequest request) throws Exception {
-        if (PlayFabSettings.DeveloperSecretKey == null) throw new Exception ("Must have PlayFabSettings.DeveloperSecretKey set to call this method");
+    static PlayFabResult<GetRandomResultTablesResult> privateGetRandomResultTablesAsync(final PlayFabInstanceAPI instance, final GetRandomResultTablesRequest request) throws Exception {
+        final PlayFabApiContext context = PlayFabInstanceAPI.contextOf(instance);
+        if (context.getDeveloperSecretKey() == null) throw new Exception ("Must have PlayFabSettings.DeveloperSecretKey set to call this method");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Admin/GetRandomResultTables"), request, "X-SecretKey", PlayFabSettings.DeveloperSecretKey);
+        FutureTask<Object> task = PlayFabHTTP.doPost(context.getURL("/Admin/GetRandomResultTables"), request, "X-SecretKey", context.getDeveloperSecretKey(), GetRandomResultTablesResult.class);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -3232,9 +3181,7 @@ public class PlayFabAdminAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
-
-        PlayFabJsonSuccess<GetRandomResultTablesResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<GetRandomResultTablesResult>>(){}.getType());
+        PlayFabJsonSuccess<GetRandomResultTablesResult> resultData = (PlayFabJsonSuccess<GetRandomResultTablesResult>) httpResult;
         GetRandomResultTablesResult result = resultData.data;
 
         PlayFabResult<GetRandomResultTablesResult> pfResult = new PlayFabResult<GetRandomResultTablesResult>();
@@ -3251,7 +3198,7 @@ public class PlayFabAdminAPI {
     public static FutureTask<PlayFabResult<GetSegmentsResponse>> GetSegmentsAsync(final GetSegmentsRequest request) {
         return new FutureTask(new Callable<PlayFabResult<GetSegmentsResponse>>() {
             public PlayFabResult<GetSegmentsResponse> call() throws Exception {
-                return privateGetSegmentsAsync(request);
+                return privateGetSegmentsAsync(null, request);
             }
         });
     }
@@ -3265,7 +3212,7 @@ public class PlayFabAdminAPI {
     public static PlayFabResult<GetSegmentsResponse> GetSegments(final GetSegmentsRequest request) {
         FutureTask<PlayFabResult<GetSegmentsResponse>> task = new FutureTask(new Callable<PlayFabResult<GetSegmentsResponse>>() {
             public PlayFabResult<GetSegmentsResponse> call() throws Exception {
-                return privateGetSegmentsAsync(request);
+                return privateGetSegmentsAsync(null, request);
             }
         });
         try {
@@ -3280,10 +3227,11 @@ public class PlayFabAdminAPI {
 
     /** Get detail information of a segment and its associated definition(s) and action(s) for a title. */
     @SuppressWarnings("unchecked")
-    private static PlayFabResult<GetSegmentsResponse> privateGetSegmentsAsync(final GetSegmentsRequest request) throws Exception {
-        if (PlayFabSettings.DeveloperSecretKey == null) throw new Exception ("Must have PlayFabSettings.DeveloperSecretKey set to call this method");
+    static PlayFabResult<GetSegmentsResponse> privateGetSegmentsAsync(final PlayFabInstanceAPI instance, final GetSegmentsRequest request) throws Exception {
+        final PlayFabApiContext context = PlayFabInstanceAPI.contextOf(instance);
+        if (context.getDeveloperSecretKey() == null) throw new Exception ("Must have PlayFabSettings.DeveloperSecretKey set to call this method");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Admin/GetSegments"), request, "X-SecretKey", PlayFabSettings.DeveloperSecretKey);
+        FutureTask<Object> task = PlayFabHTTP.doPost(context.getURL("/Admin/GetSegments"), request, "X-SecretKey", context.getDeveloperSecretKey(), GetSegmentsResponse.class);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -3294,9 +3242,7 @@ public class PlayFabAdminAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
-
-        PlayFabJsonSuccess<GetSegmentsResponse> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<GetSegmentsResponse>>(){}.getType());
+        PlayFabJsonSuccess<GetSegmentsResponse> resultData = (PlayFabJsonSuccess<GetSegmentsResponse>) httpResult;
         GetSegmentsResponse result = resultData.data;
 
         PlayFabResult<GetSegmentsResponse> pfResult = new PlayFabResult<GetSegmentsResponse>();
@@ -3313,7 +3259,7 @@ public class PlayFabAdminAPI {
     public static FutureTask<PlayFabResult<GetServerBuildInfoResult>> GetServerBuildInfoAsync(final GetServerBuildInfoRequest request) {
         return new FutureTask(new Callable<PlayFabResult<GetServerBuildInfoResult>>() {
             public PlayFabResult<GetServerBuildInfoResult> call() throws Exception {
-                return privateGetServerBuildInfoAsync(request);
+                return privateGetServerBuildInfoAsync(null, request);
             }
         });
     }
@@ -3327,7 +3273,7 @@ public class PlayFabAdminAPI {
     public static PlayFabResult<GetServerBuildInfoResult> GetServerBuildInfo(final GetServerBuildInfoRequest request) {
         FutureTask<PlayFabResult<GetServerBuildInfoResult>> task = new FutureTask(new Callable<PlayFabResult<GetServerBuildInfoResult>>() {
             public PlayFabResult<GetServerBuildInfoResult> call() throws Exception {
-                return privateGetServerBuildInfoAsync(request);
+                return privateGetServerBuildInfoAsync(null, request);
             }
         });
         try {
@@ -3342,10 +3288,11 @@ public class PlayFabAdminAPI {
 
     /** Retrieves the build details for the specified game server executable */
     @SuppressWarnings("unchecked")
-    private static PlayFabResult<GetServerBuildInfoResult> privateGetServerBuildInfoAsync(final GetServerBuildInfoRequest request) throws Exception {
-        if (PlayFabSettings.DeveloperSecretKey == null) throw new Exception ("Must have PlayFabSettings.DeveloperSecretKey set to call this method");
+    static PlayFabResult<GetServerBuildInfoResult> privateGetServerBuildInfoAsync(final PlayFabInstanceAPI instance, final GetServerBuildInfoRequest request) throws Exception {
+        final PlayFabApiContext context = PlayFabInstanceAPI.contextOf(instance);
+        if (context.getDeveloperSecretKey() == null) throw new Exception ("Must have PlayFabSettings.DeveloperSecretKey set to call this method");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Admin/GetServerBuildInfo"), request, "X-SecretKey", PlayFabSettings.DeveloperSecretKey);
+        FutureTask<Object> task = PlayFabHTTP.doPost(context.getURL("/Admin/GetServerBuildInfo"), request, "X-SecretKey", context.getDeveloperSecretKey(), GetServerBuildInfoResult.class);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -3356,9 +3303,7 @@ public class PlayFabAdminAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
-
-        PlayFabJsonSuccess<GetServerBuildInfoResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<GetServerBuildInfoResult>>(){}.getType());
+        PlayFabJsonSuccess<GetServerBuildInfoResult> resultData = (PlayFabJsonSuccess<GetServerBuildInfoResult>) httpResult;
         GetServerBuildInfoResult result = resultData.data;
 
         PlayFabResult<GetServerBuildInfoResult> pfResult = new PlayFabResult<GetServerBuildInfoResult>();
@@ -3376,7 +3321,7 @@ public class PlayFabAdminAPI {
     public static FutureTask<PlayFabResult<GetServerBuildUploadURLResult>> GetServerBuildUploadUrlAsync(final GetServerBuildUploadURLRequest request) {
         return new FutureTask(new Callable<PlayFabResult<GetServerBuildUploadURLResult>>() {
             public PlayFabResult<GetServerBuildUploadURLResult> call() throws Exception {
-                return privateGetServerBuildUploadUrlAsync(request);
+                return privateGetServerBuildUploadUrlAsync(null, request);
             }
         });
     }
@@ -3391,7 +3336,7 @@ public class PlayFabAdminAPI {
     public static PlayFabResult<GetServerBuildUploadURLResult> GetServerBuildUploadUrl(final GetServerBuildUploadURLRequest request) {
         FutureTask<PlayFabResult<GetServerBuildUploadURLResult>> task = new FutureTask(new Callable<PlayFabResult<GetServerBuildUploadURLResult>>() {
             public PlayFabResult<GetServerBuildUploadURLResult> call() throws Exception {
-                return privateGetServerBuildUploadUrlAsync(request);
+                return privateGetServerBuildUploadUrlAsync(null, request);
             }
         });
         try {
@@ -3409,10 +3354,11 @@ public class PlayFabAdminAPI {
      * use - see AddServerBuild)
      */
     @SuppressWarnings("unchecked")
-    private static PlayFabResult<GetServerBuildUploadURLResult> privateGetServerBuildUploadUrlAsync(final GetServerBuildUploadURLRequest request) throws Exception {
-        if (PlayFabSettings.DeveloperSecretKey == null) throw new Exception ("Must have PlayFabSettings.DeveloperSecretKey set to call this method");
+    static PlayFabResult<GetServerBuildUploadURLResult> privateGetServerBuildUploadUrlAsync(final PlayFabInstanceAPI instance, final GetServerBuildUploadURLRequest request) throws Exception {
+        final PlayFabApiContext context = PlayFabInstanceAPI.contextOf(instance);
+        if (context.getDeveloperSecretKey() == null) throw new Exception ("Must have PlayFabSettings.DeveloperSecretKey set to call this method");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Admin/GetServerBuildUploadUrl"), request, "X-SecretKey", PlayFabSettings.DeveloperSecretKey);
+        FutureTask<Object> task = PlayFabHTTP.doPost(context.getURL("/Admin/GetServerBuildUploadUrl"), request, "X-SecretKey", context.getDeveloperSecretKey(), GetServerBuildUploadURLResult.class);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -3423,9 +3369,7 @@ public class PlayFabAdminAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
-
-        PlayFabJsonSuccess<GetServerBuildUploadURLResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<GetServerBuildUploadURLResult>>(){}.getType());
+        PlayFabJsonSuccess<GetServerBuildUploadURLResult> resultData = (PlayFabJsonSuccess<GetServerBuildUploadURLResult>) httpResult;
         GetServerBuildUploadURLResult result = resultData.data;
 
         PlayFabResult<GetServerBuildUploadURLResult> pfResult = new PlayFabResult<GetServerBuildUploadURLResult>();
@@ -3442,7 +3386,7 @@ public class PlayFabAdminAPI {
     public static FutureTask<PlayFabResult<GetStoreItemsResult>> GetStoreItemsAsync(final GetStoreItemsRequest request) {
         return new FutureTask(new Callable<PlayFabResult<GetStoreItemsResult>>() {
             public PlayFabResult<GetStoreItemsResult> call() throws Exception {
-                return privateGetStoreItemsAsync(request);
+                return privateGetStoreItemsAsync(null, request);
             }
         });
     }
@@ -3456,7 +3400,7 @@ public class PlayFabAdminAPI {
     public static PlayFabResult<GetStoreItemsResult> GetStoreItems(final GetStoreItemsRequest request) {
         FutureTask<PlayFabResult<GetStoreItemsResult>> task = new FutureTask(new Callable<PlayFabResult<GetStoreItemsResult>>() {
             public PlayFabResult<GetStoreItemsResult> call() throws Exception {
-                return privateGetStoreItemsAsync(request);
+                return privateGetStoreItemsAsync(null, request);
             }
         });
         try {
@@ -3471,10 +3415,11 @@ public class PlayFabAdminAPI {
 
     /** Retrieves the set of items defined for the specified store, including all prices defined */
     @SuppressWarnings("unchecked")
-    private static PlayFabResult<GetStoreItemsResult> privateGetStoreItemsAsync(final GetStoreItemsRequest request) throws Exception {
-        if (PlayFabSettings.DeveloperSecretKey == null) throw new Exception ("Must have PlayFabSettings.DeveloperSecretKey set to call this method");
+    static PlayFabResult<GetStoreItemsResult> privateGetStoreItemsAsync(final PlayFabInstanceAPI instance, final GetStoreItemsRequest request) throws Exception {
+        final PlayFabApiContext context = PlayFabInstanceAPI.contextOf(instance);
+        if (context.getDeveloperSecretKey() == null) throw new Exception ("Must have PlayFabSettings.DeveloperSecretKey set to call this method");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Admin/GetStoreItems"), request, "X-SecretKey", PlayFabSettings.DeveloperSecretKey);
+        FutureTask<Object> task = PlayFabHTTP.doPost(context.getURL("/Admin/GetStoreItems"), request, "X-SecretKey", context.getDeveloperSecretKey(), GetStoreItemsResult.class);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -3485,9 +3430,7 @@ public class PlayFabAdminAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
-
-        PlayFabJsonSuccess<GetStoreItemsResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<GetStoreItemsResult>>(){}.getType());
+        PlayFabJsonSuccess<GetStoreItemsResult> resultData = (PlayFabJsonSuccess<GetStoreItemsResult>) httpResult;
         GetStoreItemsResult result = resultData.data;
 
         PlayFabResult<GetStoreItemsResult> pfResult = new PlayFabResult<GetStoreItemsResult>();
@@ -3504,7 +3447,7 @@ public class PlayFabAdminAPI {
     public static FutureTask<PlayFabResult<GetTaskInstancesResult>> GetTaskInstancesAsync(final GetTaskInstancesRequest request) {
         return new FutureTask(new Callable<PlayFabResult<GetTaskInstancesResult>>() {
             public PlayFabResult<GetTaskInstancesResult> call() throws Exception {
-                return privateGetTaskInstancesAsync(request);
+                return privateGetTaskInstancesAsync(null, request);
             }
         });
     }
@@ -3518,7 +3461,7 @@ public class PlayFabAdminAPI {
     public static PlayFabResult<GetTaskInstancesResult> GetTaskInstances(final GetTaskInstancesRequest request) {
         FutureTask<PlayFabResult<GetTaskInstancesResult>> task = new FutureTask(new Callable<PlayFabResult<GetTaskInstancesResult>>() {
             public PlayFabResult<GetTaskInstancesResult> call() throws Exception {
-                return privateGetTaskInstancesAsync(request);
+                return privateGetTaskInstancesAsync(null, request);
             }
         });
         try {
@@ -3533,10 +3476,11 @@ public class PlayFabAdminAPI {
 
     /** Query for task instances by task, status, or time range. */
     @SuppressWarnings("unchecked")
-    private static PlayFabResult<GetTaskInstancesResult> privateGetTaskInstancesAsync(final GetTaskInstancesRequest request) throws Exception {
-        if (PlayFabSettings.DeveloperSecretKey == null) throw new Exception ("Must have PlayFabSettings.DeveloperSecretKey set to call this method");
+    static PlayFabResult<GetTaskInstancesResult> privateGetTaskInstancesAsync(final PlayFabInstanceAPI instance, final GetTaskInstancesRequest request) throws Exception {
+        final PlayFabApiContext context = PlayFabInstanceAPI.contextOf(instance);
+        if (context.getDeveloperSecretKey() == null) throw new Exception ("Must have PlayFabSettings.DeveloperSecretKey set to call this method");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Admin/GetTaskInstances"), request, "X-SecretKey", PlayFabSettings.DeveloperSecretKey);
+        FutureTask<Object> task = PlayFabHTTP.doPost(context.getURL("/Admin/GetTaskInstances"), request, "X-SecretKey", context.getDeveloperSecretKey(), GetTaskInstancesResult.class);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -3547,9 +3491,7 @@ public class PlayFabAdminAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
-
-        PlayFabJsonSuccess<GetTaskInstancesResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<GetTaskInstancesResult>>(){}.getType());
+        PlayFabJsonSuccess<GetTaskInstancesResult> resultData = (PlayFabJsonSuccess<GetTaskInstancesResult>) httpResult;
         GetTaskInstancesResult result = resultData.data;
 
         PlayFabResult<GetTaskInstancesResult> pfResult = new PlayFabResult<GetTaskInstancesResult>();
@@ -3566,7 +3508,7 @@ public class PlayFabAdminAPI {
     public static FutureTask<PlayFabResult<GetTasksResult>> GetTasksAsync(final GetTasksRequest request) {
         return new FutureTask(new Callable<PlayFabResult<GetTasksResult>>() {
             public PlayFabResult<GetTasksResult> call() throws Exception {
-                return privateGetTasksAsync(request);
+                return privateGetTasksAsync(null, request);
             }
         });
     }
@@ -3580,7 +3522,7 @@ public class PlayFabAdminAPI {
     public static PlayFabResult<GetTasksResult> GetTasks(final GetTasksRequest request) {
         FutureTask<PlayFabResult<GetTasksResult>> task = new FutureTask(new Callable<PlayFabResult<GetTasksResult>>() {
             public PlayFabResult<GetTasksResult> call() throws Exception {
-                return privateGetTasksAsync(request);
+                return privateGetTasksAsync(null, request);
             }
         });
         try {
@@ -3595,10 +3537,11 @@ public class PlayFabAdminAPI {
 
     /** Get definition information on a specified task or all tasks within a title. */
     @SuppressWarnings("unchecked")
-    private static PlayFabResult<GetTasksResult> privateGetTasksAsync(final GetTasksRequest request) throws Exception {
-        if (PlayFabSettings.DeveloperSecretKey == null) throw new Exception ("Must have PlayFabSettings.DeveloperSecretKey set to call this method");
+    static PlayFabResult<GetTasksResult> privateGetTasksAsync(final PlayFabInstanceAPI instance, final GetTasksRequest request) throws Exception {
+        final PlayFabApiContext context = PlayFabInstanceAPI.contextOf(instance);
+        if (context.getDeveloperSecretKey() == null) throw new Exception ("Must have PlayFabSettings.DeveloperSecretKey set to call this method");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Admin/GetTasks"), request, "X-SecretKey", PlayFabSettings.DeveloperSecretKey);
+        FutureTask<Object> task = PlayFabHTTP.doPost(context.getURL("/Admin/GetTasks"), request, "X-SecretKey", context.getDeveloperSecretKey(), GetTasksResult.class);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -3609,9 +3552,7 @@ public class PlayFabAdminAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
-
-        PlayFabJsonSuccess<GetTasksResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<GetTasksResult>>(){}.getType());
+        PlayFabJsonSuccess<GetTasksResult> resultData = (PlayFabJsonSuccess<GetTasksResult>) httpResult;
         GetTasksResult result = resultData.data;
 
         PlayFabResult<GetTasksResult> pfResult = new PlayFabResult<GetTasksResult>();
@@ -3628,7 +3569,7 @@ public class PlayFabAdminAPI {
     public static FutureTask<PlayFabResult<GetTitleDataResult>> GetTitleDataAsync(final GetTitleDataRequest request) {
         return new FutureTask(new Callable<PlayFabResult<GetTitleDataResult>>() {
             public PlayFabResult<GetTitleDataResult> call() throws Exception {
-                return privateGetTitleDataAsync(request);
+                return privateGetTitleDataAsync(null, request);
             }
         });
     }
@@ -3642,7 +3583,7 @@ public class PlayFabAdminAPI {
     public static PlayFabResult<GetTitleDataResult> GetTitleData(final GetTitleDataRequest request) {
         FutureTask<PlayFabResult<GetTitleDataResult>> task = new FutureTask(new Callable<PlayFabResult<GetTitleDataResult>>() {
             public PlayFabResult<GetTitleDataResult> call() throws Exception {
-                return privateGetTitleDataAsync(request);
+                return privateGetTitleDataAsync(null, request);
             }
         });
         try {
@@ -3657,10 +3598,11 @@ public class PlayFabAdminAPI {
 
     /** Retrieves the key-value store of custom title settings which can be read by the client */
     @SuppressWarnings("unchecked")
-    private static PlayFabResult<GetTitleDataResult> privateGetTitleDataAsync(final GetTitleDataRequest request) throws Exception {
-        if (PlayFabSettings.DeveloperSecretKey == null) throw new Exception ("Must have PlayFabSettings.DeveloperSecretKey set to call this method");
+    static PlayFabResult<GetTitleDataResult> privateGetTitleDataAsync(final PlayFabInstanceAPI instance, final GetTitleDataRequest request) throws Exception {
+        final PlayFabApiContext context = PlayFabInstanceAPI.contextOf(instance);
+        if (context.getDeveloperSecretKey() == null) throw new Exception ("Must have PlayFabSettings.DeveloperSecretKey set to call this method");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Admin/GetTitleData"), request, "X-SecretKey", PlayFabSettings.DeveloperSecretKey);
+        FutureTask<Object> task = PlayFabHTTP.doPost(context.getURL("/Admin/GetTitleData"), request, "X-SecretKey", context.getDeveloperSecretKey(), GetTitleDataResult.class);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -3671,9 +3613,7 @@ public class PlayFabAdminAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
-
-        PlayFabJsonSuccess<GetTitleDataResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<GetTitleDataResult>>(){}.getType());
+        PlayFabJsonSuccess<GetTitleDataResult> resultData = (PlayFabJsonSuccess<GetTitleDataResult>) httpResult;
         GetTitleDataResult result = resultData.data;
 
         PlayFabResult<GetTitleDataResult> pfResult = new PlayFabResult<GetTitleDataResult>();
@@ -3690,7 +3630,7 @@ public class PlayFabAdminAPI {
     public static FutureTask<PlayFabResult<GetTitleDataResult>> GetTitleInternalDataAsync(final GetTitleDataRequest request) {
         return new FutureTask(new Callable<PlayFabResult<GetTitleDataResult>>() {
             public PlayFabResult<GetTitleDataResult> call() throws Exception {
-                return privateGetTitleInternalDataAsync(request);
+                return privateGetTitleInternalDataAsync(null, request);
             }
         });
     }
@@ -3704,7 +3644,7 @@ public class PlayFabAdminAPI {
     public static PlayFabResult<GetTitleDataResult> GetTitleInternalData(final GetTitleDataRequest request) {
         FutureTask<PlayFabResult<GetTitleDataResult>> task = new FutureTask(new Callable<PlayFabResult<GetTitleDataResult>>() {
             public PlayFabResult<GetTitleDataResult> call() throws Exception {
-                return privateGetTitleInternalDataAsync(request);
+                return privateGetTitleInternalDataAsync(null, request);
             }
         });
         try {
@@ -3719,10 +3659,11 @@ public class PlayFabAdminAPI {
 
     /** Retrieves the key-value store of custom title settings which cannot be read by the client */
     @SuppressWarnings("unchecked")
-    private static PlayFabResult<GetTitleDataResult> privateGetTitleInternalDataAsync(final GetTitleDataRequest request) throws Exception {
-        if (PlayFabSettings.DeveloperSecretKey == null) throw new Exception ("Must have PlayFabSettings.DeveloperSecretKey set to call this method");
+    static PlayFabResult<GetTitleDataResult> privateGetTitleInternalDataAsync(final PlayFabInstanceAPI instance, final GetTitleDataRequest request) throws Exception {
+        final PlayFabApiContext context = PlayFabInstanceAPI.contextOf(instance);
+        if (context.getDeveloperSecretKey() == null) throw new Exception ("Must have PlayFabSettings.DeveloperSecretKey set to call this method");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Admin/GetTitleInternalData"), request, "X-SecretKey", PlayFabSettings.DeveloperSecretKey);
+        FutureTask<Object> task = PlayFabHTTP.doPost(context.getURL("/Admin/GetTitleInternalData"), request, "X-SecretKey", context.getDeveloperSecretKey(), GetTitleDataResult.class);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -3733,9 +3674,7 @@ public class PlayFabAdminAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
-
-        PlayFabJsonSuccess<GetTitleDataResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<GetTitleDataResult>>(){}.getType());
+        PlayFabJsonSuccess<GetTitleDataResult> resultData = (PlayFabJsonSuccess<GetTitleDataResult>) httpResult;
         GetTitleDataResult result = resultData.data;
 
         PlayFabResult<GetTitleDataResult> pfResult = new PlayFabResult<GetTitleDataResult>();
@@ -3752,7 +3691,7 @@ public class PlayFabAdminAPI {
     public static FutureTask<PlayFabResult<LookupUserAccountInfoResult>> GetUserAccountInfoAsync(final LookupUserAccountInfoRequest request) {
         return new FutureTask(new Callable<PlayFabResult<LookupUserAccountInfoResult>>() {
             public PlayFabResult<LookupUserAccountInfoResult> call() throws Exception {
-                return privateGetUserAccountInfoAsync(request);
+                return privateGetUserAccountInfoAsync(null, request);
             }
         });
     }
@@ -3766,7 +3705,7 @@ public class PlayFabAdminAPI {
     public static PlayFabResult<LookupUserAccountInfoResult> GetUserAccountInfo(final LookupUserAccountInfoRequest request) {
         FutureTask<PlayFabResult<LookupUserAccountInfoResult>> task = new FutureTask(new Callable<PlayFabResult<LookupUserAccountInfoResult>>() {
             public PlayFabResult<LookupUserAccountInfoResult> call() throws Exception {
-                return privateGetUserAccountInfoAsync(request);
+                return privateGetUserAccountInfoAsync(null, request);
             }
         });
         try {
@@ -3781,10 +3720,11 @@ public class PlayFabAdminAPI {
 
     /** Retrieves the relevant details for a specified user, based upon a match against a supplied unique identifier */
     @SuppressWarnings("unchecked")
-    private static PlayFabResult<LookupUserAccountInfoResult> privateGetUserAccountInfoAsync(final LookupUserAccountInfoRequest request) throws Exception {
-        if (PlayFabSettings.DeveloperSecretKey == null) throw new Exception ("Must have PlayFabSettings.DeveloperSecretKey set to call this method");
+    static PlayFabResult<LookupUserAccountInfoResult> privateGetUserAccountInfoAsync(final PlayFabInstanceAPI instance, final LookupUserAccountInfoRequest request) throws Exception {
+        final PlayFabApiContext context = PlayFabInstanceAPI.contextOf(instance);
+        if (context.getDeveloperSecretKey() == null) throw new Exception ("Must have PlayFabSettings.DeveloperSecretKey set to call this method");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Admin/GetUserAccountInfo"), request, "X-SecretKey", PlayFabSettings.DeveloperSecretKey);
+        FutureTask<Object> task = PlayFabHTTP.doPost(context.getURL("/Admin/GetUserAccountInfo"), request, "X-SecretKey", context.getDeveloperSecretKey(), LookupUserAccountInfoResult.class);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -3795,9 +3735,7 @@ public class PlayFabAdminAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
-
-        PlayFabJsonSuccess<LookupUserAccountInfoResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<LookupUserAccountInfoResult>>(){}.getType());
+        PlayFabJsonSuccess<LookupUserAccountInfoResult> resultData = (PlayFabJsonSuccess<LookupUserAccountInfoResult>) httpResult;
         LookupUserAccountInfoResult result = resultData.data;
 
         PlayFabResult<LookupUserAccountInfoResult> pfResult = new PlayFabResult<LookupUserAccountInfoResult>();
@@ -3814,7 +3752,7 @@ public class PlayFabAdminAPI {
     public static FutureTask<PlayFabResult<GetUserBansResult>> GetUserBansAsync(final GetUserBansRequest request) {
         return new FutureTask(new Callable<PlayFabResult<GetUserBansResult>>() {
             public PlayFabResult<GetUserBansResult> call() throws Exception {
-                return privateGetUserBansAsync(request);
+                return privateGetUserBansAsync(null, request);
             }
         });
     }
@@ -3828,7 +3766,7 @@ public class PlayFabAdminAPI {
     public static PlayFabResult<GetUserBansResult> GetUserBans(final GetUserBansRequest request) {
         FutureTask<PlayFabResult<GetUserBansResult>> task = new FutureTask(new Callable<PlayFabResult<GetUserBansResult>>() {
             public PlayFabResult<GetUserBansResult> call() throws Exception {
-                return privateGetUserBansAsync(request);
+                return privateGetUserBansAsync(null, request);
             }
         });
         try {
@@ -3843,10 +3781,11 @@ public class PlayFabAdminAPI {
 
     /** Gets all bans for a user. */
     @SuppressWarnings("unchecked")
-    private static PlayFabResult<GetUserBansResult> privateGetUserBansAsync(final GetUserBansRequest request) throws Exception {
-        if (PlayFabSettings.DeveloperSecretKey == null) throw new Exception ("Must have PlayFabSettings.DeveloperSecretKey set to call this method");
+    static PlayFabResult<GetUserBansResult> privateGetUserBansAsync(final PlayFabInstanceAPI instance, final GetUserBansRequest request) throws Exception {
+        final PlayFabApiContext context = PlayFabInstanceAPI.contextOf(instance);
+        if (context.getDeveloperSecretKey() == null) throw new Exception ("Must have PlayFabSettings.DeveloperSecretKey set to call this method");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Admin/GetUserBans"), request, "X-SecretKey", PlayFabSettings.DeveloperSecretKey);
+        FutureTask<Object> task = PlayFabHTTP.doPost(context.getURL("/Admin/GetUserBans"), request, "X-SecretKey", context.getDeveloperSecretKey(), GetUserBansResult.class);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -3857,9 +3796,7 @@ public class PlayFabAdminAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
-
-        PlayFabJsonSuccess<GetUserBansResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<GetUserBansResult>>(){}.getType());
+        PlayFabJsonSuccess<GetUserBansResult> resultData = (PlayFabJsonSuccess<GetUserBansResult>) httpResult;
         GetUserBansResult result = resultData.data;
 
         PlayFabResult<GetUserBansResult> pfResult = new PlayFabResult<GetUserBansResult>();
@@ -3876,7 +3813,7 @@ public class PlayFabAdminAPI {
     public static FutureTask<PlayFabResult<GetUserDataResult>> GetUserDataAsync(final GetUserDataRequest request) {
         return new FutureTask(new Callable<PlayFabResult<GetUserDataResult>>() {
             public PlayFabResult<GetUserDataResult> call() throws Exception {
-                return privateGetUserDataAsync(request);
+                return privateGetUserDataAsync(null, request);
             }
         });
     }
@@ -3890,7 +3827,7 @@ public class PlayFabAdminAPI {
     public static PlayFabResult<GetUserDataResult> GetUserData(final GetUserDataRequest request) {
         FutureTask<PlayFabResult<GetUserDataResult>> task = new FutureTask(new Callable<PlayFabResult<GetUserDataResult>>() {
             public PlayFabResult<GetUserDataResult> call() throws Exception {
-                return privateGetUserDataAsync(request);
+                return privateGetUserDataAsync(null, request);
             }
         });
         try {
@@ -3905,10 +3842,11 @@ public class PlayFabAdminAPI {
 
     /** Retrieves the title-specific custom data for the user which is readable and writable by the client */
     @SuppressWarnings("unchecked")
-    private static PlayFabResult<GetUserDataResult> privateGetUserDataAsync(final GetUserDataRequest request) throws Exception {
-        if (PlayFabSettings.DeveloperSecretKey == null) throw new Exception ("Must have PlayFabSettings.DeveloperSecretKey set to call this method");
+    static PlayFabResult<GetUserDataResult> privateGetUserDataAsync(final PlayFabInstanceAPI instance, final GetUserDataRequest request) throws Exception {
+        final PlayFabApiContext context = PlayFabInstanceAPI.contextOf(instance);
+        if (context.getDeveloperSecretKey() == null) throw new Exception ("Must have PlayFabSettings.DeveloperSecretKey set to call this method");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Admin/GetUserData"), request, "X-SecretKey", PlayFabSettings.DeveloperSecretKey);
+        FutureTask<Object> task = PlayFabHTTP.doPost(context.getURL("/Admin/GetUserData"), request, "X-SecretKey", context.getDeveloperSecretKey(), GetUserDataResult.class);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -3919,9 +3857,7 @@ public class PlayFabAdminAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
-
-        PlayFabJsonSuccess<GetUserDataResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<GetUserDataResult>>(){}.getType());
+        PlayFabJsonSuccess<GetUserDataResult> resultData = (PlayFabJsonSuccess<GetUserDataResult>) httpResult;
         GetUserDataResult result = resultData.data;
 
         PlayFabResult<GetUserDataResult> pfResult = new PlayFabResult<GetUserDataResult>();
@@ -3938,7 +3874,7 @@ public class PlayFabAdminAPI {
     public static FutureTask<PlayFabResult<GetUserDataResult>> GetUserInternalDataAsync(final GetUserDataRequest request) {
         return new FutureTask(new Callable<PlayFabResult<GetUserDataResult>>() {
             public PlayFabResult<GetUserDataResult> call() throws Exception {
-                return privateGetUserInternalDataAsync(request);
+                return privateGetUserInternalDataAsync(null, request);
             }
         });
     }
@@ -3952,7 +3888,7 @@ public class PlayFabAdminAPI {
     public static PlayFabResult<GetUserDataResult> GetUserInternalData(final GetUserDataRequest request) {
         FutureTask<PlayFabResult<GetUserDataResult>> task = new FutureTask(new Callable<PlayFabResult<GetUserDataResult>>() {
             public PlayFabResult<GetUserDataResult> call() throws Exception {
-                return privateGetUserInternalDataAsync(request);
+                return privateGetUserInternalDataAsync(null, request);
             }
         });
         try {
@@ -3967,10 +3903,11 @@ public class PlayFabAdminAPI {
 
     /** Retrieves the title-specific custom data for the user which cannot be accessed by the client */
     @SuppressWarnings("unchecked")
-    private static PlayFabResult<GetUserDataResult> privateGetUserInternalDataAsync(final GetUserDataRequest request) throws Exception {
-        if (PlayFabSettings.DeveloperSecretKey == null) throw new Exception ("Must have PlayFabSettings.DeveloperSecretKey set to call this method");
+    static PlayFabResult<GetUserDataResult> privateGetUserInternalDataAsync(final PlayFabInstanceAPI instance, final GetUserDataRequest request) throws Exception {
+        final PlayFabApiContext context = PlayFabInstanceAPI.contextOf(instance);
+        if (context.getDeveloperSecretKey() == null) throw new Exception ("Must have PlayFabSettings.DeveloperSecretKey set to call this method");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Admin/GetUserInternalData"), request, "X-SecretKey", PlayFabSettings.DeveloperSecretKey);
+        FutureTask<Object> task = PlayFabHTTP.doPost(context.getURL("/Admin/GetUserInternalData"), request, "X-SecretKey", context.getDeveloperSecretKey(), GetUserDataResult.class);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -3981,9 +3918,7 @@ public class PlayFabAdminAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
-
-        PlayFabJsonSuccess<GetUserDataResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<GetUserDataResult>>(){}.getType());
+        PlayFabJsonSuccess<GetUserDataResult> resultData = (PlayFabJsonSuccess<GetUserDataResult>) httpResult;
         GetUserDataResult result = resultData.data;
 
         PlayFabResult<GetUserDataResult> pfResult = new PlayFabResult<GetUserDataResult>();
@@ -4000,7 +3935,7 @@ public class PlayFabAdminAPI {
     public static FutureTask<PlayFabResult<GetUserInventoryResult>> GetUserInventoryAsync(final GetUserInventoryRequest request) {
         return new FutureTask(new Callable<PlayFabResult<GetUserInventoryResult>>() {
             public PlayFabResult<GetUserInventoryResult> call() throws Exception {
-                return privateGetUserInventoryAsync(request);
+                return privateGetUserInventoryAsync(null, request);
             }
         });
     }
@@ -4014,7 +3949,7 @@ public class PlayFabAdminAPI {
     public static PlayFabResult<GetUserInventoryResult> GetUserInventory(final GetUserInventoryRequest request) {
         FutureTask<PlayFabResult<GetUserInventoryResult>> task = new FutureTask(new Callable<PlayFabResult<GetUserInventoryResult>>() {
             public PlayFabResult<GetUserInventoryResult> call() throws Exception {
-                return privateGetUserInventoryAsync(request);
+                return privateGetUserInventoryAsync(null, request);
             }
         });
         try {
@@ -4029,10 +3964,11 @@ public class PlayFabAdminAPI {
 
     /** Retrieves the specified user's current inventory of virtual goods */
     @SuppressWarnings("unchecked")
-    private static PlayFabResult<GetUserInventoryResult> privateGetUserInventoryAsync(final GetUserInventoryRequest request) throws Exception {
-        if (PlayFabSettings.DeveloperSecretKey == null) throw new Exception ("Must have PlayFabSettings.DeveloperSecretKey set to call this method");
+    static PlayFabResult<GetUserInventoryResult> privateGetUserInventoryAsync(final PlayFabInstanceAPI instance, final GetUserInventoryRequest request) throws Exception {
+        final PlayFabApiContext context = PlayFabInstanceAPI.contextOf(instance);
+        if (context.getDeveloperSecretKey() == null) throw new Exception ("Must have PlayFabSettings.DeveloperSecretKey set to call this method");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Admin/GetUserInventory"), request, "X-SecretKey", PlayFabSettings.DeveloperSecretKey);
+        FutureTask<Object> task = PlayFabHTTP.doPost(context.getURL("/Admin/GetUserInventory"), request, "X-SecretKey", context.getDeveloperSecretKey(), GetUserInventoryResult.class);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -4043,9 +3979,7 @@ public class PlayFabAdminAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
-
-        PlayFabJsonSuccess<GetUserInventoryResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<GetUserInventoryResult>>(){}.getType());
+        PlayFabJsonSuccess<GetUserInventoryResult> resultData = (PlayFabJsonSuccess<GetUserInventoryResult>) httpResult;
         GetUserInventoryResult result = resultData.data;
 
         PlayFabResult<GetUserInventoryResult> pfResult = new PlayFabResult<GetUserInventoryResult>();
@@ -4062,7 +3996,7 @@ public class PlayFabAdminAPI {
     public static FutureTask<PlayFabResult<GetUserDataResult>> GetUserPublisherDataAsync(final GetUserDataRequest request) {
         return new FutureTask(new Callable<PlayFabResult<GetUserDataResult>>() {
             public PlayFabResult<GetUserDataResult> call() throws Exception {
-                return privateGetUserPublisherDataAsync(request);
+                return privateGetUserPublisherDataAsync(null, request);
             }
         });
     }
@@ -4076,7 +4010,7 @@ public class PlayFabAdminAPI {
     public static PlayFabResult<GetUserDataResult> GetUserPublisherData(final GetUserDataRequest request) {
         FutureTask<PlayFabResult<GetUserDataResult>> task = new FutureTask(new Callable<PlayFabResult<GetUserDataResult>>() {
             public PlayFabResult<GetUserDataResult> call() throws Exception {
-                return privateGetUserPublisherDataAsync(request);
+                return privateGetUserPublisherDataAsync(null, request);
             }
         });
         try {
@@ -4091,10 +4025,11 @@ public class PlayFabAdminAPI {
 
     /** Retrieves the publisher-specific custom data for the user which is readable and writable by the client */
     @SuppressWarnings("unchecked")
-    private static PlayFabResult<GetUserDataResult> privateGetUserPublisherDataAsync(final GetUserDataRequest request) throws Exception {
-        if (PlayFabSettings.DeveloperSecretKey == null) throw new Exception ("Must have PlayFabSettings.DeveloperSecretKey set to call this method");
+    static PlayFabResult<GetUserDataResult> privateGetUserPublisherDataAsync(final PlayFabInstanceAPI instance, final GetUserDataRequest request) throws Exception {
+        final PlayFabApiContext context = PlayFabInstanceAPI.contextOf(instance);
+        if (context.getDeveloperSecretKey() == null) throw new Exception ("Must have PlayFabSettings.DeveloperSecretKey set to call this method");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Admin/GetUserPublisherData"), request, "X-SecretKey", PlayFabSettings.DeveloperSecretKey);
+        FutureTask<Object> task = PlayFabHTTP.doPost(context.getURL("/Admin/GetUserPublisherData"), request, "X-SecretKey", context.getDeveloperSecretKey(), GetUserDataResult.class);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -4105,9 +4040,7 @@ public class PlayFabAdminAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
-
-        PlayFabJsonSuccess<GetUserDataResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<GetUserDataResult>>(){}.getType());
+        PlayFabJsonSuccess<GetUserDataResult> resultData = (PlayFabJsonSuccess<GetUserDataResult>) httpResult;
         GetUserDataResult result = resultData.data;
 
         PlayFabResult<GetUserDataResult> pfResult = new PlayFabResult<GetUserDataResult>();
@@ -4124,7 +4057,7 @@ public class PlayFabAdminAPI {
     public static FutureTask<PlayFabResult<GetUserDataResult>> GetUserPublisherInternalDataAsync(final GetUserDataRequest request) {
         return new FutureTask(new Callable<PlayFabResult<GetUserDataResult>>() {
             public PlayFabResult<GetUserDataResult> call() throws Exception {
-                return privateGetUserPublisherInternalDataAsync(request);
+                return privateGetUserPublisherInternalDataAsync(null, request);
             }
         });
     }
@@ -4138,7 +4071,7 @@ public class PlayFabAdminAPI {
     public static PlayFabResult<GetUserDataResult> GetUserPublisherInternalData(final GetUserDataRequest request) {
         FutureTask<PlayFabResult<GetUserDataResult>> task = new FutureTask(new Callable<PlayFabResult<GetUserDataResult>>() {
             public PlayFabResult<GetUserDataResult> call() throws Exception {
-                return privateGetUserPublisherInternalDataAsync(request);
+                return privateGetUserPublisherInternalDataAsync(null, request);
             }
         });
         try {
@@ -4153,10 +4086,11 @@ public class PlayFabAdminAPI {
 
     /** Retrieves the publisher-specific custom data for the user which cannot be accessed by the client */
     @SuppressWarnings("unchecked")
-    private static PlayFabResult<GetUserDataResult> privateGetUserPublisherInternalDataAsync(final GetUserDataRequest request) throws Exception {
-        if (PlayFabSettings.DeveloperSecretKey == null) throw new Exception ("Must have PlayFabSettings.DeveloperSecretKey set to call this method");
+    static PlayFabResult<GetUserDataResult> privateGetUserPublisherInternalDataAsync(final PlayFabInstanceAPI instance, final GetUserDataRequest request) throws Exception {
+        final PlayFabApiContext context = PlayFabInstanceAPI.contextOf(instance);
+        if (context.getDeveloperSecretKey() == null) throw new Exception ("Must have PlayFabSettings.DeveloperSecretKey set to call this method");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Admin/GetUserPublisherInternalData"), request, "X-SecretKey", PlayFabSettings.DeveloperSecretKey);
+        FutureTask<Object> task = PlayFabHTTP.doPost(context.getURL("/Admin/GetUserPublisherInternalData"), request, "X-SecretKey", context.getDeveloperSecretKey(), GetUserDataResult.class);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -4167,9 +4101,7 @@ public class PlayFabAdminAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
-
-        PlayFabJsonSuccess<GetUserDataResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<GetUserDataResult>>(){}.getType());
+        PlayFabJsonSuccess<GetUserDataResult> resultData = (PlayFabJsonSuccess<GetUserDataResult>) httpResult;
         GetUserDataResult result = resultData.data;
 
         PlayFabResult<GetUserDataResult> pfResult = new PlayFabResult<GetUserDataResult>();
@@ -4186,7 +4118,7 @@ public class PlayFabAdminAPI {
     public static FutureTask<PlayFabResult<GetUserDataResult>> GetUserPublisherReadOnlyDataAsync(final GetUserDataRequest request) {
         return new FutureTask(new Callable<PlayFabResult<GetUserDataResult>>() {
             public PlayFabResult<GetUserDataResult> call() throws Exception {
-                return privateGetUserPublisherReadOnlyDataAsync(request);
+                return privateGetUserPublisherReadOnlyDataAsync(null, request);
             }
         });
     }
@@ -4200,7 +4132,7 @@ public class PlayFabAdminAPI {
     public static PlayFabResult<GetUserDataResult> GetUserPublisherReadOnlyData(final GetUserDataRequest request) {
         FutureTask<PlayFabResult<GetUserDataResult>> task = new FutureTask(new Callable<PlayFabResult<GetUserDataResult>>() {
             public PlayFabResult<GetUserDataResult> call() throws Exception {
-                return privateGetUserPublisherReadOnlyDataAsync(request);
+                return privateGetUserPublisherReadOnlyDataAsync(null, request);
             }
         });
         try {
@@ -4215,10 +4147,11 @@ public class PlayFabAdminAPI {
 
     /** Retrieves the publisher-specific custom data for the user which can only be read by the client */
     @SuppressWarnings("unchecked")
-    private static PlayFabResult<GetUserDataResult> privateGetUserPublisherReadOnlyDataAsync(final GetUserDataRequest request) throws Exception {
-        if (PlayFabSettings.DeveloperSecretKey == null) throw new Exception ("Must have PlayFabSettings.DeveloperSecretKey set to call this method");
+    static PlayFabResult<GetUserDataResult> privateGetUserPublisherReadOnlyDataAsync(final PlayFabInstanceAPI instance, final GetUserDataRequest request) throws Exception {
+        final PlayFabApiContext context = PlayFabInstanceAPI.contextOf(instance);
+        if (context.getDeveloperSecretKey() == null) throw new Exception ("Must have PlayFabSettings.DeveloperSecretKey set to call this method");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Admin/GetUserPublisherReadOnlyData"), request, "X-SecretKey", PlayFabSettings.DeveloperSecretKey);
+        FutureTask<Object> task = PlayFabHTTP.doPost(context.getURL("/Admin/GetUserPublisherReadOnlyData"), request, "X-SecretKey", context.getDeveloperSecretKey(), GetUserDataResult.class);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -4229,9 +4162,7 @@ public class PlayFabAdminAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
-
-        PlayFabJsonSuccess<GetUserDataResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<GetUserDataResult>>(){}.getType());
+        PlayFabJsonSuccess<GetUserDataResult> resultData = (PlayFabJsonSuccess<GetUserDataResult>) httpResult;
         GetUserDataResult result = resultData.data;
 
         PlayFabResult<GetUserDataResult> pfResult = new PlayFabResult<GetUserDataResult>();
@@ -4248,7 +4179,7 @@ public class PlayFabAdminAPI {
     public static FutureTask<PlayFabResult<GetUserDataResult>> GetUserReadOnlyDataAsync(final GetUserDataRequest request) {
         return new FutureTask(new Callable<PlayFabResult<GetUserDataResult>>() {
             public PlayFabResult<GetUserDataResult> call() throws Exception {
-                return privateGetUserReadOnlyDataAsync(request);
+                return privateGetUserReadOnlyDataAsync(null, request);
             }
         });
     }
@@ -4262,7 +4193,7 @@ public class PlayFabAdminAPI {
     public static PlayFabResult<GetUserDataResult> GetUserReadOnlyData(final GetUserDataRequest request) {
         FutureTask<PlayFabResult<GetUserDataResult>> task = new FutureTask(new Callable<PlayFabResult<GetUserDataResult>>() {
             public PlayFabResult<GetUserDataResult> call() throws Exception {
-                return privateGetUserReadOnlyDataAsync(request);
+                return privateGetUserReadOnlyDataAsync(null, request);
             }
         });
         try {
@@ -4277,10 +4208,11 @@ public class PlayFabAdminAPI {
 
     /** Retrieves the title-specific custom data for the user which can only be read by the client */
     @SuppressWarnings("unchecked")
-    private static PlayFabResult<GetUserDataResult> privateGetUserReadOnlyDataAsync(final GetUserDataRequest request) throws Exception {
-        if (PlayFabSettings.DeveloperSecretKey == null) throw new Exception ("Must have PlayFabSettings.DeveloperSecretKey set to call this method");
+    static PlayFabResult<GetUserDataResult> privateGetUserReadOnlyDataAsync(final PlayFabInstanceAPI instance, final GetUserDataRequest request) throws Exception {
+        final PlayFabApiContext context = PlayFabInstanceAPI.contextOf(instance);
+        if (context.getDeveloperSecretKey() == null) throw new Exception ("Must have PlayFabSettings.DeveloperSecretKey set to call this method");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Admin/GetUserReadOnlyData"), request, "X-SecretKey", PlayFabSettings.DeveloperSecretKey);
+        FutureTask<Object> task = PlayFabHTTP.doPost(context.getURL("/Admin/GetUserReadOnlyData"), request, "X-SecretKey", context.getDeveloperSecretKey(), GetUserDataResult.class);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -4291,9 +4223,7 @@ public class PlayFabAdminAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
-
-        PlayFabJsonSuccess<GetUserDataResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<GetUserDataResult>>(){}.getType());
+        PlayFabJsonSuccess<GetUserDataResult> resultData = (PlayFabJsonSuccess<GetUserDataResult>) httpResult;
         GetUserDataResult result = resultData.data;
 
         PlayFabResult<GetUserDataResult> pfResult = new PlayFabResult<GetUserDataResult>();
@@ -4310,7 +4240,7 @@ public class PlayFabAdminAPI {
     public static FutureTask<PlayFabResult<GrantItemsToUsersResult>> GrantItemsToUsersAsync(final GrantItemsToUsersRequest request) {
         return new FutureTask(new Callable<PlayFabResult<GrantItemsToUsersResult>>() {
             public PlayFabResult<GrantItemsToUsersResult> call() throws Exception {
-                return privateGrantItemsToUsersAsync(request);
+                return privateGrantItemsToUsersAsync(null, request);
             }
         });
     }
@@ -4324,7 +4254,7 @@ public class PlayFabAdminAPI {
     public static PlayFabResult<GrantItemsToUsersResult> GrantItemsToUsers(final GrantItemsToUsersRequest request) {
         FutureTask<PlayFabResult<GrantItemsToUsersResult>> task = new FutureTask(new Callable<PlayFabResult<GrantItemsToUsersResult>>() {
             public PlayFabResult<GrantItemsToUsersResult> call() throws Exception {
-                return privateGrantItemsToUsersAsync(request);
+                return privateGrantItemsToUsersAsync(null, request);
             }
         });
         try {
@@ -4339,10 +4269,11 @@ public class PlayFabAdminAPI {
 
     /** Adds the specified items to the specified user inventories */
     @SuppressWarnings("unchecked")
-    private static PlayFabResult<GrantItemsToUsersResult> privateGrantItemsToUsersAsync(final GrantItemsToUsersRequest request) throws Exception {
-        if (PlayFabSettings.DeveloperSecretKey == null) throw new Exception ("Must have PlayFabSettings.DeveloperSecretKey set to call this method");
+    static PlayFabResult<GrantItemsToUsersResult> privateGrantItemsToUsersAsync(final PlayFabInstanceAPI instance, final GrantItemsToUsersRequest request) throws Exception {
+        final PlayFabApiContext context = PlayFabInstanceAPI.contextOf(instance);
+        if (context.getDeveloperSecretKey() == null) throw new Exception ("Must have PlayFabSettings.DeveloperSecretKey set to call this method");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Admin/GrantItemsToUsers"), request, "X-SecretKey", PlayFabSettings.DeveloperSecretKey);
+        FutureTask<Object> task = PlayFabHTTP.doPost(context.getURL("/Admin/GrantItemsToUsers"), request, "X-SecretKey", context.getDeveloperSecretKey(), GrantItemsToUsersResult.class);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -4353,9 +4284,7 @@ public class PlayFabAdminAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
-
-        PlayFabJsonSuccess<GrantItemsToUsersResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<GrantItemsToUsersResult>>(){}.getType());
+        PlayFabJsonSuccess<GrantItemsToUsersResult> resultData = (PlayFabJsonSuccess<GrantItemsToUsersResult>) httpResult;
         GrantItemsToUsersResult result = resultData.data;
 
         PlayFabResult<GrantItemsToUsersResult> pfResult = new PlayFabResult<GrantItemsToUsersResult>();
@@ -4372,7 +4301,7 @@ public class PlayFabAdminAPI {
     public static FutureTask<PlayFabResult<IncrementLimitedEditionItemAvailabilityResult>> IncrementLimitedEditionItemAvailabilityAsync(final IncrementLimitedEditionItemAvailabilityRequest request) {
         return new FutureTask(new Callable<PlayFabResult<IncrementLimitedEditionItemAvailabilityResult>>() {
             public PlayFabResult<IncrementLimitedEditionItemAvailabilityResult> call() throws Exception {
-                return privateIncrementLimitedEditionItemAvailabilityAsync(request);
+                return privateIncrementLimitedEditionItemAvailabilityAsync(null, request);
             }
         });
     }
@@ -4386,7 +4315,7 @@ public class PlayFabAdminAPI {
     public static PlayFabResult<IncrementLimitedEditionItemAvailabilityResult> IncrementLimitedEditionItemAvailability(final IncrementLimitedEditionItemAvailabilityRequest request) {
         FutureTask<PlayFabResult<IncrementLimitedEditionItemAvailabilityResult>> task = new FutureTask(new Callable<PlayFabResult<IncrementLimitedEditionItemAvailabilityResult>>() {
             public PlayFabResult<IncrementLimitedEditionItemAvailabilityResult> call() throws Exception {
-                return privateIncrementLimitedEditionItemAvailabilityAsync(request);
+                return privateIncrementLimitedEditionItemAvailabilityAsync(null, request);
             }
         });
         try {
@@ -4401,10 +4330,11 @@ public class PlayFabAdminAPI {
 
     /** Increases the global count for the given scarce resource. */
     @SuppressWarnings("unchecked")
-    private static PlayFabResult<IncrementLimitedEditionItemAvailabilityResult> privateIncrementLimitedEditionItemAvailabilityAsync(final IncrementLimitedEditionItemAvailabilityRequest request) throws Exception {
-        if (PlayFabSettings.DeveloperSecretKey == null) throw new Exception ("Must have PlayFabSettings.DeveloperSecretKey set to call this method");
+    static PlayFabResult<IncrementLimitedEditionItemAvailabilityResult> privateIncrementLimitedEditionItemAvailabilityAsync(final PlayFabInstanceAPI instance, final IncrementLimitedEditionItemAvailabilityRequest request) throws Exception {
+        final PlayFabApiContext context = PlayFabInstanceAPI.contextOf(instance);
+        if (context.getDeveloperSecretKey() == null) throw new Exception ("Must have PlayFabSettings.DeveloperSecretKey set to call this method");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Admin/IncrementLimitedEditionItemAvailability"), request, "X-SecretKey", PlayFabSettings.DeveloperSecretKey);
+        FutureTask<Object> task = PlayFabHTTP.doPost(context.getURL("/Admin/IncrementLimitedEditionItemAvailability"), request, "X-SecretKey", context.getDeveloperSecretKey(), IncrementLimitedEditionItemAvailabilityResult.class);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -4415,9 +4345,7 @@ public class PlayFabAdminAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
-
-        PlayFabJsonSuccess<IncrementLimitedEditionItemAvailabilityResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<IncrementLimitedEditionItemAvailabilityResult>>(){}.getType());
+        PlayFabJsonSuccess<IncrementLimitedEditionItemAvailabilityResult> resultData = (PlayFabJsonSuccess<IncrementLimitedEditionItemAvailabilityResult>) httpResult;
         IncrementLimitedEditionItemAvailabilityResult result = resultData.data;
 
         PlayFabResult<IncrementLimitedEditionItemAvailabilityResult> pfResult = new PlayFabResult<IncrementLimitedEditionItemAvailabilityResult>();
@@ -4434,7 +4362,7 @@ public class PlayFabAdminAPI {
     public static FutureTask<PlayFabResult<IncrementPlayerStatisticVersionResult>> IncrementPlayerStatisticVersionAsync(final IncrementPlayerStatisticVersionRequest request) {
         return new FutureTask(new Callable<PlayFabResult<IncrementPlayerStatisticVersionResult>>() {
             public PlayFabResult<IncrementPlayerStatisticVersionResult> call() throws Exception {
-                return privateIncrementPlayerStatisticVersionAsync(request);
+                return privateIncrementPlayerStatisticVersionAsync(null, request);
             }
         });
     }
@@ -4448,7 +4376,7 @@ public class PlayFabAdminAPI {
     public static PlayFabResult<IncrementPlayerStatisticVersionResult> IncrementPlayerStatisticVersion(final IncrementPlayerStatisticVersionRequest request) {
         FutureTask<PlayFabResult<IncrementPlayerStatisticVersionResult>> task = new FutureTask(new Callable<PlayFabResult<IncrementPlayerStatisticVersionResult>>() {
             public PlayFabResult<IncrementPlayerStatisticVersionResult> call() throws Exception {
-                return privateIncrementPlayerStatisticVersionAsync(request);
+                return privateIncrementPlayerStatisticVersionAsync(null, request);
             }
         });
         try {
@@ -4463,10 +4391,11 @@ public class PlayFabAdminAPI {
 
     /** Resets the indicated statistic, removing all player entries for it and backing up the old values. */
     @SuppressWarnings("unchecked")
-    private static PlayFabResult<IncrementPlayerStatisticVersionResult> privateIncrementPlayerStatisticVersionAsync(final IncrementPlayerStatisticVersionRequest request) throws Exception {
-        if (PlayFabSettings.DeveloperSecretKey == null) throw new Exception ("Must have PlayFabSettings.DeveloperSecretKey set to call this method");
+    static PlayFabResult<IncrementPlayerStatisticVersionResult> privateIncrementPlayerStatisticVersionAsync(final PlayFabInstanceAPI instance, final IncrementPlayerStatisticVersionRequest request) throws Exception {
+        final PlayFabApiContext context = PlayFabInstanceAPI.contextOf(instance);
+        if (context.getDeveloperSecretKey() == null) throw new Exception ("Must have PlayFabSettings.DeveloperSecretKey set to call this method");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Admin/IncrementPlayerStatisticVersion"), request, "X-SecretKey", PlayFabSettings.DeveloperSecretKey);
+        FutureTask<Object> task = PlayFabHTTP.doPost(context.getURL("/Admin/IncrementPlayerStatisticVersion"), request, "X-SecretKey", context.getDeveloperSecretKey(), IncrementPlayerStatisticVersionResult.class);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -4477,9 +4406,7 @@ public class PlayFabAdminAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
-
-        PlayFabJsonSuccess<IncrementPlayerStatisticVersionResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<IncrementPlayerStatisticVersionResult>>(){}.getType());
+        PlayFabJsonSuccess<IncrementPlayerStatisticVersionResult> resultData = (PlayFabJsonSuccess<IncrementPlayerStatisticVersionResult>) httpResult;
         IncrementPlayerStatisticVersionResult result = resultData.data;
 
         PlayFabResult<IncrementPlayerStatisticVersionResult> pfResult = new PlayFabResult<IncrementPlayerStatisticVersionResult>();
@@ -4496,7 +4423,7 @@ public class PlayFabAdminAPI {
     public static FutureTask<PlayFabResult<ListOpenIdConnectionResponse>> ListOpenIdConnectionAsync(final ListOpenIdConnectionRequest request) {
         return new FutureTask(new Callable<PlayFabResult<ListOpenIdConnectionResponse>>() {
             public PlayFabResult<ListOpenIdConnectionResponse> call() throws Exception {
-                return privateListOpenIdConnectionAsync(request);
+                return privateListOpenIdConnectionAsync(null, request);
             }
         });
     }
@@ -4510,7 +4437,7 @@ public class PlayFabAdminAPI {
     public static PlayFabResult<ListOpenIdConnectionResponse> ListOpenIdConnection(final ListOpenIdConnectionRequest request) {
         FutureTask<PlayFabResult<ListOpenIdConnectionResponse>> task = new FutureTask(new Callable<PlayFabResult<ListOpenIdConnectionResponse>>() {
             public PlayFabResult<ListOpenIdConnectionResponse> call() throws Exception {
-                return privateListOpenIdConnectionAsync(request);
+                return privateListOpenIdConnectionAsync(null, request);
             }
         });
         try {
@@ -4525,10 +4452,11 @@ public class PlayFabAdminAPI {
 
     /** Retrieves a list of all Open ID Connect providers registered to a title. */
     @SuppressWarnings("unchecked")
-    private static PlayFabResult<ListOpenIdConnectionResponse> privateListOpenIdConnectionAsync(final ListOpenIdConnectionRequest request) throws Exception {
-        if (PlayFabSettings.DeveloperSecretKey == null) throw new Exception ("Must have PlayFabSettings.DeveloperSecretKey set to call this method");
+    static PlayFabResult<ListOpenIdConnectionResponse> privateListOpenIdConnectionAsync(final PlayFabInstanceAPI instance, final ListOpenIdConnectionRequest request) throws Exception {
+        final PlayFabApiContext context = PlayFabInstanceAPI.contextOf(instance);
+        if (context.getDeveloperSecretKey() == null) throw new Exception ("Must have PlayFabSettings.DeveloperSecretKey set to call this method");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Admin/ListOpenIdConnection"), request, "X-SecretKey", PlayFabSettings.DeveloperSecretKey);
+        FutureTask<Object> task = PlayFabHTTP.doPost(context.getURL("/Admin/ListOpenIdConnection"), request, "X-SecretKey", context.getDeveloperSecretKey(), ListOpenIdConnectionResponse.class);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -4539,9 +4467,7 @@ public class PlayFabAdminAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
-
-        PlayFabJsonSuccess<ListOpenIdConnectionResponse> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<ListOpenIdConnectionResponse>>(){}.getType());
+        PlayFabJsonSuccess<ListOpenIdConnectionResponse> resultData = (PlayFabJsonSuccess<ListOpenIdConnectionResponse>) httpResult;
         ListOpenIdConnectionResponse result = resultData.data;
 
         PlayFabResult<ListOpenIdConnectionResponse> pfResult = new PlayFabResult<ListOpenIdConnectionResponse>();
@@ -4558,7 +4484,7 @@ public class PlayFabAdminAPI {
     public static FutureTask<PlayFabResult<ListBuildsResult>> ListServerBuildsAsync(final ListBuildsRequest request) {
         return new FutureTask(new Callable<PlayFabResult<ListBuildsResult>>() {
             public PlayFabResult<ListBuildsResult> call() throws Exception {
-                return privateListServerBuildsAsync(request);
+                return privateListServerBuildsAsync(null, request);
             }
         });
     }
@@ -4572,7 +4498,7 @@ public class PlayFabAdminAPI {
     public static PlayFabResult<ListBuildsResult> ListServerBuilds(final ListBuildsRequest request) {
         FutureTask<PlayFabResult<ListBuildsResult>> task = new FutureTask(new Callable<PlayFabResult<ListBuildsResult>>() {
             public PlayFabResult<ListBuildsResult> call() throws Exception {
-                return privateListServerBuildsAsync(request);
+                return privateListServerBuildsAsync(null, request);
             }
         });
         try {
@@ -4587,10 +4513,11 @@ public class PlayFabAdminAPI {
 
     /** Retrieves the build details for all game server executables which are currently defined for the title */
     @SuppressWarnings("unchecked")
-    private static PlayFabResult<ListBuildsResult> privateListServerBuildsAsync(final ListBuildsRequest request) throws Exception {
-        if (PlayFabSettings.DeveloperSecretKey == null) throw new Exception ("Must have PlayFabSettings.DeveloperSecretKey set to call this method");
+    static PlayFabResult<ListBuildsResult> privateListServerBuildsAsync(final PlayFabInstanceAPI instance, final ListBuildsRequest request) throws Exception {
+        final PlayFabApiContext context = PlayFabInstanceAPI.contextOf(instance);
+        if (context.getDeveloperSecretKey() == null) throw new Exception ("Must have PlayFabSettings.DeveloperSecretKey set to call this method");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Admin/ListServerBuilds"), request, "X-SecretKey", PlayFabSettings.DeveloperSecretKey);
+        FutureTask<Object> task = PlayFabHTTP.doPost(context.getURL("/Admin/ListServerBuilds"), request, "X-SecretKey", context.getDeveloperSecretKey(), ListBuildsResult.class);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -4601,9 +4528,7 @@ public class PlayFabAdminAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
-
-        PlayFabJsonSuccess<ListBuildsResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<ListBuildsResult>>(){}.getType());
+        PlayFabJsonSuccess<ListBuildsResult> resultData = (PlayFabJsonSuccess<ListBuildsResult>) httpResult;
         ListBuildsResult result = resultData.data;
 
         PlayFabResult<ListBuildsResult> pfResult = new PlayFabResult<ListBuildsResult>();
@@ -4620,7 +4545,7 @@ public class PlayFabAdminAPI {
     public static FutureTask<PlayFabResult<ListVirtualCurrencyTypesResult>> ListVirtualCurrencyTypesAsync(final ListVirtualCurrencyTypesRequest request) {
         return new FutureTask(new Callable<PlayFabResult<ListVirtualCurrencyTypesResult>>() {
             public PlayFabResult<ListVirtualCurrencyTypesResult> call() throws Exception {
-                return privateListVirtualCurrencyTypesAsync(request);
+                return privateListVirtualCurrencyTypesAsync(null, request);
             }
         });
     }
@@ -4634,7 +4559,7 @@ public class PlayFabAdminAPI {
     public static PlayFabResult<ListVirtualCurrencyTypesResult> ListVirtualCurrencyTypes(final ListVirtualCurrencyTypesRequest request) {
         FutureTask<PlayFabResult<ListVirtualCurrencyTypesResult>> task = new FutureTask(new Callable<PlayFabResult<ListVirtualCurrencyTypesResult>>() {
             public PlayFabResult<ListVirtualCurrencyTypesResult> call() throws Exception {
-                return privateListVirtualCurrencyTypesAsync(request);
+                return privateListVirtualCurrencyTypesAsync(null, request);
             }
         });
         try {
@@ -4649,10 +4574,11 @@ public class PlayFabAdminAPI {
 
     /** Retuns the list of all defined virtual currencies for the title */
     @SuppressWarnings("unchecked")
-    private static PlayFabResult<ListVirtualCurrencyTypesResult> privateListVirtualCurrencyTypesAsync(final ListVirtualCurrencyTypesRequest request) throws Exception {
-        if (PlayFabSettings.DeveloperSecretKey == null) throw new Exception ("Must have PlayFabSettings.DeveloperSecretKey set to call this method");
+    static PlayFabResult<ListVirtualCurrencyTypesResult> privateListVirtualCurrencyTypesAsync(final PlayFabInstanceAPI instance, final ListVirtualCurrencyTypesRequest request) throws Exception {
+        final PlayFabApiContext context = PlayFabInstanceAPI.contextOf(instance);
+        if (context.getDeveloperSecretKey() == null) throw new Exception ("Must have PlayFabSettings.DeveloperSecretKey set to call this method");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Admin/ListVirtualCurrencyTypes"), request, "X-SecretKey", PlayFabSettings.DeveloperSecretKey);
+        FutureTask<Object> task = PlayFabHTTP.doPost(context.getURL("/Admin/ListVirtualCurrencyTypes"), request, "X-SecretKey", context.getDeveloperSecretKey(), ListVirtualCurrencyTypesResult.class);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -4663,9 +4589,7 @@ public class PlayFabAdminAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
-
-        PlayFabJsonSuccess<ListVirtualCurrencyTypesResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<ListVirtualCurrencyTypesResult>>(){}.getType());
+        PlayFabJsonSuccess<ListVirtualCurrencyTypesResult> resultData = (PlayFabJsonSuccess<ListVirtualCurrencyTypesResult>) httpResult;
         ListVirtualCurrencyTypesResult result = resultData.data;
 
         PlayFabResult<ListVirtualCurrencyTypesResult> pfResult = new PlayFabResult<ListVirtualCurrencyTypesResult>();
@@ -4682,7 +4606,7 @@ public class PlayFabAdminAPI {
     public static FutureTask<PlayFabResult<ModifyMatchmakerGameModesResult>> ModifyMatchmakerGameModesAsync(final ModifyMatchmakerGameModesRequest request) {
         return new FutureTask(new Callable<PlayFabResult<ModifyMatchmakerGameModesResult>>() {
             public PlayFabResult<ModifyMatchmakerGameModesResult> call() throws Exception {
-                return privateModifyMatchmakerGameModesAsync(request);
+                return privateModifyMatchmakerGameModesAsync(null, request);
             }
         });
     }
@@ -4696,7 +4620,7 @@ public class PlayFabAdminAPI {
     public static PlayFabResult<ModifyMatchmakerGameModesResult> ModifyMatchmakerGameModes(final ModifyMatchmakerGameModesRequest request) {
         FutureTask<PlayFabResult<ModifyMatchmakerGameModesResult>> task = new FutureTask(new Callable<PlayFabResult<ModifyMatchmakerGameModesResult>>() {
             public PlayFabResult<ModifyMatchmakerGameModesResult> call() throws Exception {
-                return privateModifyMatchmakerGameModesAsync(request);
+                return privateModifyMatchmakerGameModesAsync(null, request);
             }
         });
         try {
@@ -4711,10 +4635,11 @@ public class PlayFabAdminAPI {
 
     /** Updates the game server mode details for the specified game server executable */
     @SuppressWarnings("unchecked")
-    private static PlayFabResult<ModifyMatchmakerGameModesResult> privateModifyMatchmakerGameModesAsync(final ModifyMatchmakerGameModesRequest request) throws Exception {
-        if (PlayFabSettings.DeveloperSecretKey == null) throw new Exception ("Must have PlayFabSettings.DeveloperSecretKey set to call this method");
+    static PlayFabResult<ModifyMatchmakerGameModesResult> privateModifyMatchmakerGameModesAsync(final PlayFabInstanceAPI instance, final ModifyMatchmakerGameModesRequest request) throws Exception {
+        final PlayFabApiContext context = PlayFabInstanceAPI.contextOf(instance);
+        if (context.getDeveloperSecretKey() == null) throw new Exception ("Must have PlayFabSettings.DeveloperSecretKey set to call this method");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Admin/ModifyMatchmakerGameModes"), request, "X-SecretKey", PlayFabSettings.DeveloperSecretKey);
+        FutureTask<Object> task = PlayFabHTTP.doPost(context.getURL("/Admin/ModifyMatchmakerGameModes"), request, "X-SecretKey", context.getDeveloperSecretKey(), ModifyMatchmakerGameModesResult.class);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -4725,9 +4650,7 @@ public class PlayFabAdminAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
-
-        PlayFabJsonSuccess<ModifyMatchmakerGameModesResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<ModifyMatchmakerGameModesResult>>(){}.getType());
+        PlayFabJsonSuccess<ModifyMatchmakerGameModesResult> resultData = (PlayFabJsonSuccess<ModifyMatchmakerGameModesResult>) httpResult;
         ModifyMatchmakerGameModesResult result = resultData.data;
 
         PlayFabResult<ModifyMatchmakerGameModesResult> pfResult = new PlayFabResult<ModifyMatchmakerGameModesResult>();
@@ -4744,7 +4667,7 @@ public class PlayFabAdminAPI {
     public static FutureTask<PlayFabResult<ModifyServerBuildResult>> ModifyServerBuildAsync(final ModifyServerBuildRequest request) {
         return new FutureTask(new Callable<PlayFabResult<ModifyServerBuildResult>>() {
             public PlayFabResult<ModifyServerBuildResult> call() throws Exception {
-                return privateModifyServerBuildAsync(request);
+                return privateModifyServerBuildAsync(null, request);
             }
         });
     }
@@ -4758,7 +4681,7 @@ public class PlayFabAdminAPI {
     public static PlayFabResult<ModifyServerBuildResult> ModifyServerBuild(final ModifyServerBuildRequest request) {
         FutureTask<PlayFabResult<ModifyServerBuildResult>> task = new FutureTask(new Callable<PlayFabResult<ModifyServerBuildResult>>() {
             public PlayFabResult<ModifyServerBuildResult> call() throws Exception {
-                return privateModifyServerBuildAsync(request);
+                return privateModifyServerBuildAsync(null, request);
             }
         });
         try {
@@ -4773,10 +4696,11 @@ public class PlayFabAdminAPI {
 
     /** Updates the build details for the specified game server executable */
     @SuppressWarnings("unchecked")
-    private static PlayFabResult<ModifyServerBuildResult> privateModifyServerBuildAsync(final ModifyServerBuildRequest request) throws Exception {
-        if (PlayFabSettings.DeveloperSecretKey == null) throw new Exception ("Must have PlayFabSettings.DeveloperSecretKey set to call this method");
+    static PlayFabResult<ModifyServerBuildResult> privateModifyServerBuildAsync(final PlayFabInstanceAPI instance, final ModifyServerBuildRequest request) throws Exception {
+        final PlayFabApiContext context = PlayFabInstanceAPI.contextOf(instance);
+        if (context.getDeveloperSecretKey() == null) throw new Exception ("Must have PlayFabSettings.DeveloperSecretKey set to call this method");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Admin/ModifyServerBuild"), request, "X-SecretKey", PlayFabSettings.DeveloperSecretKey);
+        FutureTask<Object> task = PlayFabHTTP.doPost(context.getURL("/Admin/ModifyServerBuild"), request, "X-SecretKey", context.getDeveloperSecretKey(), ModifyServerBuildResult.class);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -4787,9 +4711,7 @@ public class PlayFabAdminAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
-
-        PlayFabJsonSuccess<ModifyServerBuildResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<ModifyServerBuildResult>>(){}.getType());
+        PlayFabJsonSuccess<ModifyServerBuildResult> resultData = (PlayFabJsonSuccess<ModifyServerBuildResult>) httpResult;
         ModifyServerBuildResult result = resultData.data;
 
         PlayFabResult<ModifyServerBuildResult> pfResult = new PlayFabResult<ModifyServerBuildResult>();
@@ -4806,7 +4728,7 @@ public class PlayFabAdminAPI {
     public static FutureTask<PlayFabResult<RefundPurchaseResponse>> RefundPurchaseAsync(final RefundPurchaseRequest request) {
         return new FutureTask(new Callable<PlayFabResult<RefundPurchaseResponse>>() {
             public PlayFabResult<RefundPurchaseResponse> call() throws Exception {
-                return privateRefundPurchaseAsync(request);
+                return privateRefundPurchaseAsync(null, request);
             }
         });
     }
@@ -4820,7 +4742,7 @@ public class PlayFabAdminAPI {
     public static PlayFabResult<RefundPurchaseResponse> RefundPurchase(final RefundPurchaseRequest request) {
         FutureTask<PlayFabResult<RefundPurchaseResponse>> task = new FutureTask(new Callable<PlayFabResult<RefundPurchaseResponse>>() {
             public PlayFabResult<RefundPurchaseResponse> call() throws Exception {
-                return privateRefundPurchaseAsync(request);
+                return privateRefundPurchaseAsync(null, request);
             }
         });
         try {
@@ -4835,10 +4757,11 @@ public class PlayFabAdminAPI {
 
     /** Attempts to process an order refund through the original real money payment provider. */
     @SuppressWarnings("unchecked")
-    private static PlayFabResult<RefundPurchaseResponse> privateRefundPurchaseAsync(final RefundPurchaseRequest request) throws Exception {
-        if (PlayFabSettings.DeveloperSecretKey == null) throw new Exception ("Must have PlayFabSettings.DeveloperSecretKey set to call this method");
+    static PlayFabResult<RefundPurchaseResponse> privateRefundPurchaseAsync(final PlayFabInstanceAPI instance, final RefundPurchaseRequest request) throws Exception {
+        final PlayFabApiContext context = PlayFabInstanceAPI.contextOf(instance);
+        if (context.getDeveloperSecretKey() == null) throw new Exception ("Must have PlayFabSettings.DeveloperSecretKey set to call this method");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Admin/RefundPurchase"), request, "X-SecretKey", PlayFabSettings.DeveloperSecretKey);
+        FutureTask<Object> task = PlayFabHTTP.doPost(context.getURL("/Admin/RefundPurchase"), request, "X-SecretKey", context.getDeveloperSecretKey(), RefundPurchaseResponse.class);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -4849,9 +4772,7 @@ public class PlayFabAdminAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
-
-        PlayFabJsonSuccess<RefundPurchaseResponse> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<RefundPurchaseResponse>>(){}.getType());
+        PlayFabJsonSuccess<RefundPurchaseResponse> resultData = (PlayFabJsonSuccess<RefundPurchaseResponse>) httpResult;
         RefundPurchaseResponse result = resultData.data;
 
         PlayFabResult<RefundPurchaseResponse> pfResult = new PlayFabResult<RefundPurchaseResponse>();
@@ -4868,7 +4789,7 @@ public class PlayFabAdminAPI {
     public static FutureTask<PlayFabResult<RemovePlayerTagResult>> RemovePlayerTagAsync(final RemovePlayerTagRequest request) {
         return new FutureTask(new Callable<PlayFabResult<RemovePlayerTagResult>>() {
             public PlayFabResult<RemovePlayerTagResult> call() throws Exception {
-                return privateRemovePlayerTagAsync(request);
+                return privateRemovePlayerTagAsync(null, request);
             }
         });
     }
@@ -4882,7 +4803,7 @@ public class PlayFabAdminAPI {
     public static PlayFabResult<RemovePlayerTagResult> RemovePlayerTag(final RemovePlayerTagRequest request) {
         FutureTask<PlayFabResult<RemovePlayerTagResult>> task = new FutureTask(new Callable<PlayFabResult<RemovePlayerTagResult>>() {
             public PlayFabResult<RemovePlayerTagResult> call() throws Exception {
-                return privateRemovePlayerTagAsync(request);
+                return privateRemovePlayerTagAsync(null, request);
             }
         });
         try {
@@ -4897,10 +4818,11 @@ public class PlayFabAdminAPI {
 
     /** Remove a given tag from a player profile. The tag's namespace is automatically generated based on the source of the tag. */
     @SuppressWarnings("unchecked")
-    private static PlayFabResult<RemovePlayerTagResult> privateRemovePlayerTagAsync(final RemovePlayerTagRequest request) throws Exception {
-        if (PlayFabSettings.DeveloperSecretKey == null) throw new Exception ("Must have PlayFabSettings.DeveloperSecretKey set to call this method");
+    static PlayFabResult<RemovePlayerTagResult> privateRemovePlayerTagAsync(final PlayFabInstanceAPI instance, final RemovePlayerTagRequest request) throws Exception {
+        final PlayFabApiContext context = PlayFabInstanceAPI.contextOf(instance);
+        if (context.getDeveloperSecretKey() == null) throw new Exception ("Must have PlayFabSettings.DeveloperSecretKey set to call this method");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Admin/RemovePlayerTag"), request, "X-SecretKey", PlayFabSettings.DeveloperSecretKey);
+        FutureTask<Object> task = PlayFabHTTP.doPost(context.getURL("/Admin/RemovePlayerTag"), request, "X-SecretKey", context.getDeveloperSecretKey(), RemovePlayerTagResult.class);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -4911,9 +4833,7 @@ public class PlayFabAdminAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
-
-        PlayFabJsonSuccess<RemovePlayerTagResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<RemovePlayerTagResult>>(){}.getType());
+        PlayFabJsonSuccess<RemovePlayerTagResult> resultData = (PlayFabJsonSuccess<RemovePlayerTagResult>) httpResult;
         RemovePlayerTagResult result = resultData.data;
 
         PlayFabResult<RemovePlayerTagResult> pfResult = new PlayFabResult<RemovePlayerTagResult>();
@@ -4931,7 +4851,7 @@ public class PlayFabAdminAPI {
     public static FutureTask<PlayFabResult<RemoveServerBuildResult>> RemoveServerBuildAsync(final RemoveServerBuildRequest request) {
         return new FutureTask(new Callable<PlayFabResult<RemoveServerBuildResult>>() {
             public PlayFabResult<RemoveServerBuildResult> call() throws Exception {
-                return privateRemoveServerBuildAsync(request);
+                return privateRemoveServerBuildAsync(null, request);
             }
         });
     }
@@ -4946,7 +4866,7 @@ public class PlayFabAdminAPI {
     public static PlayFabResult<RemoveServerBuildResult> RemoveServerBuild(final RemoveServerBuildRequest request) {
         FutureTask<PlayFabResult<RemoveServerBuildResult>> task = new FutureTask(new Callable<PlayFabResult<RemoveServerBuildResult>>() {
             public PlayFabResult<RemoveServerBuildResult> call() throws Exception {
-                return privateRemoveServerBuildAsync(request);
+                return privateRemoveServerBuildAsync(null, request);
             }
         });
         try {
@@ -4964,10 +4884,11 @@ public class PlayFabAdminAPI {
      * StartGame
      */
     @SuppressWarnings("unchecked")
-    private static PlayFabResult<RemoveServerBuildResult> privateRemoveServerBuildAsync(final RemoveServerBuildRequest request) throws Exception {
-        if (PlayFabSettings.DeveloperSecretKey == null) throw new Exception ("Must have PlayFabSettings.DeveloperSecretKey set to call this method");
+    static PlayFabResult<RemoveServerBuildResult> privateRemoveServerBuildAsync(final PlayFabInstanceAPI instance, final RemoveServerBuildRequest request) throws Exception {
+        final PlayFabApiContext context = PlayFabInstanceAPI.contextOf(instance);
+        if (context.getDeveloperSecretKey() == null) throw new Exception ("Must have PlayFabSettings.DeveloperSecretKey set to call this method");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Admin/RemoveServerBuild"), request, "X-SecretKey", PlayFabSettings.DeveloperSecretKey);
+        FutureTask<Object> task = PlayFabHTTP.doPost(context.getURL("/Admin/RemoveServerBuild"), request, "X-SecretKey", context.getDeveloperSecretKey(), RemoveServerBuildResult.class);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -4978,9 +4899,7 @@ public class PlayFabAdminAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
-
-        PlayFabJsonSuccess<RemoveServerBuildResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<RemoveServerBuildResult>>(){}.getType());
+        PlayFabJsonSuccess<RemoveServerBuildResult> resultData = (PlayFabJsonSuccess<RemoveServerBuildResult>) httpResult;
         RemoveServerBuildResult result = resultData.data;
 
         PlayFabResult<RemoveServerBuildResult> pfResult = new PlayFabResult<RemoveServerBuildResult>();
@@ -4997,7 +4916,7 @@ public class PlayFabAdminAPI {
     public static FutureTask<PlayFabResult<BlankResult>> RemoveVirtualCurrencyTypesAsync(final RemoveVirtualCurrencyTypesRequest request) {
         return new FutureTask(new Callable<PlayFabResult<BlankResult>>() {
             public PlayFabResult<BlankResult> call() throws Exception {
-                return privateRemoveVirtualCurrencyTypesAsync(request);
+                return privateRemoveVirtualCurrencyTypesAsync(null, request);
             }
         });
     }
@@ -5011,7 +4930,7 @@ public class PlayFabAdminAPI {
     public static PlayFabResult<BlankResult> RemoveVirtualCurrencyTypes(final RemoveVirtualCurrencyTypesRequest request) {
         FutureTask<PlayFabResult<BlankResult>> task = new FutureTask(new Callable<PlayFabResult<BlankResult>>() {
             public PlayFabResult<BlankResult> call() throws Exception {
-                return privateRemoveVirtualCurrencyTypesAsync(request);
+                return privateRemoveVirtualCurrencyTypesAsync(null, request);
             }
         });
         try {
@@ -5026,10 +4945,11 @@ public class PlayFabAdminAPI {
 
     /** Removes one or more virtual currencies from the set defined for the title. */
     @SuppressWarnings("unchecked")
-    private static PlayFabResult<BlankResult> privateRemoveVirtualCurrencyTypesAsync(final RemoveVirtualCurrencyTypesRequest request) throws Exception {
-        if (PlayFabSettings.DeveloperSecretKey == null) throw new Exception ("Must have PlayFabSettings.DeveloperSecretKey set to call this method");
+    static PlayFabResult<BlankResult> privateRemoveVirtualCurrencyTypesAsync(final PlayFabInstanceAPI instance, final RemoveVirtualCurrencyTypesRequest request) throws Exception {
+        final PlayFabApiContext context = PlayFabInstanceAPI.contextOf(instance);
+        if (context.getDeveloperSecretKey() == null) throw new Exception ("Must have PlayFabSettings.DeveloperSecretKey set to call this method");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Admin/RemoveVirtualCurrencyTypes"), request, "X-SecretKey", PlayFabSettings.DeveloperSecretKey);
+        FutureTask<Object> task = PlayFabHTTP.doPost(context.getURL("/Admin/RemoveVirtualCurrencyTypes"), request, "X-SecretKey", context.getDeveloperSecretKey(), BlankResult.class);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -5040,9 +4960,7 @@ public class PlayFabAdminAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
-
-        PlayFabJsonSuccess<BlankResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<BlankResult>>(){}.getType());
+        PlayFabJsonSuccess<BlankResult> resultData = (PlayFabJsonSuccess<BlankResult>) httpResult;
         BlankResult result = resultData.data;
 
         PlayFabResult<BlankResult> pfResult = new PlayFabResult<BlankResult>();
@@ -5059,7 +4977,7 @@ public class PlayFabAdminAPI {
     public static FutureTask<PlayFabResult<ResetCharacterStatisticsResult>> ResetCharacterStatisticsAsync(final ResetCharacterStatisticsRequest request) {
         return new FutureTask(new Callable<PlayFabResult<ResetCharacterStatisticsResult>>() {
             public PlayFabResult<ResetCharacterStatisticsResult> call() throws Exception {
-                return privateResetCharacterStatisticsAsync(request);
+                return privateResetCharacterStatisticsAsync(null, request);
             }
         });
     }
@@ -5073,7 +4991,7 @@ public class PlayFabAdminAPI {
     public static PlayFabResult<ResetCharacterStatisticsResult> ResetCharacterStatistics(final ResetCharacterStatisticsRequest request) {
         FutureTask<PlayFabResult<ResetCharacterStatisticsResult>> task = new FutureTask(new Callable<PlayFabResult<ResetCharacterStatisticsResult>>() {
             public PlayFabResult<ResetCharacterStatisticsResult> call() throws Exception {
-                return privateResetCharacterStatisticsAsync(request);
+                return privateResetCharacterStatisticsAsync(null, request);
             }
         });
         try {
@@ -5088,10 +5006,11 @@ public class PlayFabAdminAPI {
 
     /** Completely removes all statistics for the specified character, for the current game */
     @SuppressWarnings("unchecked")
-    private static PlayFabResult<ResetCharacterStatisticsResult> privateResetCharacterStatisticsAsync(final ResetCharacterStatisticsRequest request) throws Exception {
-        if (PlayFabSettings.DeveloperSecretKey == null) throw new Exception ("Must have PlayFabSettings.DeveloperSecretKey set to call this method");
+    static PlayFabResult<ResetCharacterStatisticsResult> privateResetCharacterStatisticsAsync(final PlayFabInstanceAPI instance, final ResetCharacterStatisticsRequest request) throws Exception {
+        final PlayFabApiContext context = PlayFabInstanceAPI.contextOf(instance);
+        if (context.getDeveloperSecretKey() == null) throw new Exception ("Must have PlayFabSettings.DeveloperSecretKey set to call this method");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Admin/ResetCharacterStatistics"), request, "X-SecretKey", PlayFabSettings.DeveloperSecretKey);
+        FutureTask<Object> task = PlayFabHTTP.doPost(context.getURL("/Admin/ResetCharacterStatistics"), request, "X-SecretKey", context.getDeveloperSecretKey(), ResetCharacterStatisticsResult.class);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -5102,9 +5021,7 @@ public class PlayFabAdminAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
-
-        PlayFabJsonSuccess<ResetCharacterStatisticsResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<ResetCharacterStatisticsResult>>(){}.getType());
+        PlayFabJsonSuccess<ResetCharacterStatisticsResult> resultData = (PlayFabJsonSuccess<ResetCharacterStatisticsResult>) httpResult;
         ResetCharacterStatisticsResult result = resultData.data;
 
         PlayFabResult<ResetCharacterStatisticsResult> pfResult = new PlayFabResult<ResetCharacterStatisticsResult>();
@@ -5121,7 +5038,7 @@ public class PlayFabAdminAPI {
     public static FutureTask<PlayFabResult<ResetPasswordResult>> ResetPasswordAsync(final ResetPasswordRequest request) {
         return new FutureTask(new Callable<PlayFabResult<ResetPasswordResult>>() {
             public PlayFabResult<ResetPasswordResult> call() throws Exception {
-                return privateResetPasswordAsync(request);
+                return privateResetPasswordAsync(null, request);
             }
         });
     }
@@ -5135,7 +5052,7 @@ public class PlayFabAdminAPI {
     public static PlayFabResult<ResetPasswordResult> ResetPassword(final ResetPasswordRequest request) {
         FutureTask<PlayFabResult<ResetPasswordResult>> task = new FutureTask(new Callable<PlayFabResult<ResetPasswordResult>>() {
             public PlayFabResult<ResetPasswordResult> call() throws Exception {
-                return privateResetPasswordAsync(request);
+                return privateResetPasswordAsync(null, request);
             }
         });
         try {
@@ -5150,10 +5067,11 @@ public class PlayFabAdminAPI {
 
     /** Reset a player's password for a given title. */
     @SuppressWarnings("unchecked")
-    private static PlayFabResult<ResetPasswordResult> privateResetPasswordAsync(final ResetPasswordRequest request) throws Exception {
-        if (PlayFabSettings.DeveloperSecretKey == null) throw new Exception ("Must have PlayFabSettings.DeveloperSecretKey set to call this method");
+    static PlayFabResult<ResetPasswordResult> privateResetPasswordAsync(final PlayFabInstanceAPI instance, final ResetPasswordRequest request) throws Exception {
+        final PlayFabApiContext context = PlayFabInstanceAPI.contextOf(instance);
+        if (context.getDeveloperSecretKey() == null) throw new Exception ("Must have PlayFabSettings.DeveloperSecretKey set to call this method");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Admin/ResetPassword"), request, "X-SecretKey", PlayFabSettings.DeveloperSecretKey);
+        FutureTask<Object> task = PlayFabHTTP.doPost(context.getURL("/Admin/ResetPassword"), request, "X-SecretKey", context.getDeveloperSecretKey(), ResetPasswordResult.class);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -5164,9 +5082,7 @@ public class PlayFabAdminAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
-
-        PlayFabJsonSuccess<ResetPasswordResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<ResetPasswordResult>>(){}.getType());
+        PlayFabJsonSuccess<ResetPasswordResult> resultData = (PlayFabJsonSuccess<ResetPasswordResult>) httpResult;
         ResetPasswordResult result = resultData.data;
 
         PlayFabResult<ResetPasswordResult> pfResult = new PlayFabResult<ResetPasswordResult>();
@@ -5183,7 +5099,7 @@ public class PlayFabAdminAPI {
     public static FutureTask<PlayFabResult<ResetUserStatisticsResult>> ResetUserStatisticsAsync(final ResetUserStatisticsRequest request) {
         return new FutureTask(new Callable<PlayFabResult<ResetUserStatisticsResult>>() {
             public PlayFabResult<ResetUserStatisticsResult> call() throws Exception {
-                return privateResetUserStatisticsAsync(request);
+                return privateResetUserStatisticsAsync(null, request);
             }
         });
     }
@@ -5197,7 +5113,7 @@ public class PlayFabAdminAPI {
     public static PlayFabResult<ResetUserStatisticsResult> ResetUserStatistics(final ResetUserStatisticsRequest request) {
         FutureTask<PlayFabResult<ResetUserStatisticsResult>> task = new FutureTask(new Callable<PlayFabResult<ResetUserStatisticsResult>>() {
             public PlayFabResult<ResetUserStatisticsResult> call() throws Exception {
-                return privateResetUserStatisticsAsync(request);
+                return privateResetUserStatisticsAsync(null, request);
             }
         });
         try {
@@ -5212,10 +5128,11 @@ public class PlayFabAdminAPI {
 
     /** Completely removes all statistics for the specified user, for the current game */
     @SuppressWarnings("unchecked")
-    private static PlayFabResult<ResetUserStatisticsResult> privateResetUserStatisticsAsync(final ResetUserStatisticsRequest request) throws Exception {
-        if (PlayFabSettings.DeveloperSecretKey == null) throw new Exception ("Must have PlayFabSettings.DeveloperSecretKey set to call this method");
+    static PlayFabResult<ResetUserStatisticsResult> privateResetUserStatisticsAsync(final PlayFabInstanceAPI instance, final ResetUserStatisticsRequest request) throws Exception {
+        final PlayFabApiContext context = PlayFabInstanceAPI.contextOf(instance);
+        if (context.getDeveloperSecretKey() == null) throw new Exception ("Must have PlayFabSettings.DeveloperSecretKey set to call this method");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Admin/ResetUserStatistics"), request, "X-SecretKey", PlayFabSettings.DeveloperSecretKey);
+        FutureTask<Object> task = PlayFabHTTP.doPost(context.getURL("/Admin/ResetUserStatistics"), request, "X-SecretKey", context.getDeveloperSecretKey(), ResetUserStatisticsResult.class);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -5226,9 +5143,7 @@ public class PlayFabAdminAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
-
-        PlayFabJsonSuccess<ResetUserStatisticsResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<ResetUserStatisticsResult>>(){}.getType());
+        PlayFabJsonSuccess<ResetUserStatisticsResult> resultData = (PlayFabJsonSuccess<ResetUserStatisticsResult>) httpResult;
         ResetUserStatisticsResult result = resultData.data;
 
         PlayFabResult<ResetUserStatisticsResult> pfResult = new PlayFabResult<ResetUserStatisticsResult>();
@@ -5245,7 +5160,7 @@ public class PlayFabAdminAPI {
     public static FutureTask<PlayFabResult<ResolvePurchaseDisputeResponse>> ResolvePurchaseDisputeAsync(final ResolvePurchaseDisputeRequest request) {
         return new FutureTask(new Callable<PlayFabResult<ResolvePurchaseDisputeResponse>>() {
             public PlayFabResult<ResolvePurchaseDisputeResponse> call() throws Exception {
-                return privateResolvePurchaseDisputeAsync(request);
+                return privateResolvePurchaseDisputeAsync(null, request);
             }
         });
     }
@@ -5259,7 +5174,7 @@ public class PlayFabAdminAPI {
     public static PlayFabResult<ResolvePurchaseDisputeResponse> ResolvePurchaseDispute(final ResolvePurchaseDisputeRequest request) {
         FutureTask<PlayFabResult<ResolvePurchaseDisputeResponse>> task = new FutureTask(new Callable<PlayFabResult<ResolvePurchaseDisputeResponse>>() {
             public PlayFabResult<ResolvePurchaseDisputeResponse> call() throws Exception {
-                return privateResolvePurchaseDisputeAsync(request);
+                return privateResolvePurchaseDisputeAsync(null, request);
             }
         });
         try {
@@ -5274,10 +5189,11 @@ public class PlayFabAdminAPI {
 
     /** Attempts to resolve a dispute with the original order's payment provider. */
     @SuppressWarnings("unchecked")
-    private static PlayFabResult<ResolvePurchaseDisputeResponse> privateResolvePurchaseDisputeAsync(final ResolvePurchaseDisputeRequest request) throws Exception {
-        if (PlayFabSettings.DeveloperSecretKey == null) throw new Exception ("Must have PlayFabSettings.DeveloperSecretKey set to call this method");
+    static PlayFabResult<ResolvePurchaseDisputeResponse> privateResolvePurchaseDisputeAsync(final PlayFabInstanceAPI instance, final ResolvePurchaseDisputeRequest request) throws Exception {
+        final PlayFabApiContext context = PlayFabInstanceAPI.contextOf(instance);
+        if (context.getDeveloperSecretKey() == null) throw new Exception ("Must have PlayFabSettings.DeveloperSecretKey set to call this method");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Admin/ResolvePurchaseDispute"), request, "X-SecretKey", PlayFabSettings.DeveloperSecretKey);
+        FutureTask<Object> task = PlayFabHTTP.doPost(context.getURL("/Admin/ResolvePurchaseDispute"), request, "X-SecretKey", context.getDeveloperSecretKey(), ResolvePurchaseDisputeResponse.class);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -5288,9 +5204,7 @@ public class PlayFabAdminAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
-
-        PlayFabJsonSuccess<ResolvePurchaseDisputeResponse> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<ResolvePurchaseDisputeResponse>>(){}.getType());
+        PlayFabJsonSuccess<ResolvePurchaseDisputeResponse> resultData = (PlayFabJsonSuccess<ResolvePurchaseDisputeResponse>) httpResult;
         ResolvePurchaseDisputeResponse result = resultData.data;
 
         PlayFabResult<ResolvePurchaseDisputeResponse> pfResult = new PlayFabResult<ResolvePurchaseDisputeResponse>();
@@ -5307,7 +5221,7 @@ public class PlayFabAdminAPI {
     public static FutureTask<PlayFabResult<RevokeAllBansForUserResult>> RevokeAllBansForUserAsync(final RevokeAllBansForUserRequest request) {
         return new FutureTask(new Callable<PlayFabResult<RevokeAllBansForUserResult>>() {
             public PlayFabResult<RevokeAllBansForUserResult> call() throws Exception {
-                return privateRevokeAllBansForUserAsync(request);
+                return privateRevokeAllBansForUserAsync(null, request);
             }
         });
     }
@@ -5321,7 +5235,7 @@ public class PlayFabAdminAPI {
     public static PlayFabResult<RevokeAllBansForUserResult> RevokeAllBansForUser(final RevokeAllBansForUserRequest request) {
         FutureTask<PlayFabResult<RevokeAllBansForUserResult>> task = new FutureTask(new Callable<PlayFabResult<RevokeAllBansForUserResult>>() {
             public PlayFabResult<RevokeAllBansForUserResult> call() throws Exception {
-                return privateRevokeAllBansForUserAsync(request);
+                return privateRevokeAllBansForUserAsync(null, request);
             }
         });
         try {
@@ -5336,10 +5250,11 @@ public class PlayFabAdminAPI {
 
     /** Revoke all active bans for a user. */
     @SuppressWarnings("unchecked")
-    private static PlayFabResult<RevokeAllBansForUserResult> privateRevokeAllBansForUserAsync(final RevokeAllBansForUserRequest request) throws Exception {
-        if (PlayFabSettings.DeveloperSecretKey == null) throw new Exception ("Must have PlayFabSettings.DeveloperSecretKey set to call this method");
+    static PlayFabResult<RevokeAllBansForUserResult> privateRevokeAllBansForUserAsync(final PlayFabInstanceAPI instance, final RevokeAllBansForUserRequest request) throws Exception {
+        final PlayFabApiContext context = PlayFabInstanceAPI.contextOf(instance);
+        if (context.getDeveloperSecretKey() == null) throw new Exception ("Must have PlayFabSettings.DeveloperSecretKey set to call this method");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Admin/RevokeAllBansForUser"), request, "X-SecretKey", PlayFabSettings.DeveloperSecretKey);
+        FutureTask<Object> task = PlayFabHTTP.doPost(context.getURL("/Admin/RevokeAllBansForUser"), request, "X-SecretKey", context.getDeveloperSecretKey(), RevokeAllBansForUserResult.class);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -5350,9 +5265,7 @@ public class PlayFabAdminAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
-
-        PlayFabJsonSuccess<RevokeAllBansForUserResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<RevokeAllBansForUserResult>>(){}.getType());
+        PlayFabJsonSuccess<RevokeAllBansForUserResult> resultData = (PlayFabJsonSuccess<RevokeAllBansForUserResult>) httpResult;
         RevokeAllBansForUserResult result = resultData.data;
 
         PlayFabResult<RevokeAllBansForUserResult> pfResult = new PlayFabResult<RevokeAllBansForUserResult>();
@@ -5369,7 +5282,7 @@ public class PlayFabAdminAPI {
     public static FutureTask<PlayFabResult<RevokeBansResult>> RevokeBansAsync(final RevokeBansRequest request) {
         return new FutureTask(new Callable<PlayFabResult<RevokeBansResult>>() {
             public PlayFabResult<RevokeBansResult> call() throws Exception {
-                return privateRevokeBansAsync(request);
+                return privateRevokeBansAsync(null, request);
             }
         });
     }
@@ -5383,7 +5296,7 @@ public class PlayFabAdminAPI {
     public static PlayFabResult<RevokeBansResult> RevokeBans(final RevokeBansRequest request) {
         FutureTask<PlayFabResult<RevokeBansResult>> task = new FutureTask(new Callable<PlayFabResult<RevokeBansResult>>() {
             public PlayFabResult<RevokeBansResult> call() throws Exception {
-                return privateRevokeBansAsync(request);
+                return privateRevokeBansAsync(null, request);
             }
         });
         try {
@@ -5398,10 +5311,11 @@ public class PlayFabAdminAPI {
 
     /** Revoke all active bans specified with BanId. */
     @SuppressWarnings("unchecked")
-    private static PlayFabResult<RevokeBansResult> privateRevokeBansAsync(final RevokeBansRequest request) throws Exception {
-        if (PlayFabSettings.DeveloperSecretKey == null) throw new Exception ("Must have PlayFabSettings.DeveloperSecretKey set to call this method");
+    static PlayFabResult<RevokeBansResult> privateRevokeBansAsync(final PlayFabInstanceAPI instance, final RevokeBansRequest request) throws Exception {
+        final PlayFabApiContext context = PlayFabInstanceAPI.contextOf(instance);
+        if (context.getDeveloperSecretKey() == null) throw new Exception ("Must have PlayFabSettings.DeveloperSecretKey set to call this method");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Admin/RevokeBans"), request, "X-SecretKey", PlayFabSettings.DeveloperSecretKey);
+        FutureTask<Object> task = PlayFabHTTP.doPost(context.getURL("/Admin/RevokeBans"), request, "X-SecretKey", context.getDeveloperSecretKey(), RevokeBansResult.class);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -5412,9 +5326,7 @@ public class PlayFabAdminAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
-
-        PlayFabJsonSuccess<RevokeBansResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<RevokeBansResult>>(){}.getType());
+        PlayFabJsonSuccess<RevokeBansResult> resultData = (PlayFabJsonSuccess<RevokeBansResult>) httpResult;
         RevokeBansResult result = resultData.data;
 
         PlayFabResult<RevokeBansResult> pfResult = new PlayFabResult<RevokeBansResult>();
@@ -5431,7 +5343,7 @@ public class PlayFabAdminAPI {
     public static FutureTask<PlayFabResult<RevokeInventoryResult>> RevokeInventoryItemAsync(final RevokeInventoryItemRequest request) {
         return new FutureTask(new Callable<PlayFabResult<RevokeInventoryResult>>() {
             public PlayFabResult<RevokeInventoryResult> call() throws Exception {
-                return privateRevokeInventoryItemAsync(request);
+                return privateRevokeInventoryItemAsync(null, request);
             }
         });
     }
@@ -5445,7 +5357,7 @@ public class PlayFabAdminAPI {
     public static PlayFabResult<RevokeInventoryResult> RevokeInventoryItem(final RevokeInventoryItemRequest request) {
         FutureTask<PlayFabResult<RevokeInventoryResult>> task = new FutureTask(new Callable<PlayFabResult<RevokeInventoryResult>>() {
             public PlayFabResult<RevokeInventoryResult> call() throws Exception {
-                return privateRevokeInventoryItemAsync(request);
+                return privateRevokeInventoryItemAsync(null, request);
             }
         });
         try {
@@ -5460,10 +5372,11 @@ public class PlayFabAdminAPI {
 
     /** Revokes access to an item in a user's inventory */
     @SuppressWarnings("unchecked")
-    private static PlayFabResult<RevokeInventoryResult> privateRevokeInventoryItemAsync(final RevokeInventoryItemRequest request) throws Exception {
-        if (PlayFabSettings.DeveloperSecretKey == null) throw new Exception ("Must have PlayFabSettings.DeveloperSecretKey set to call this method");
+    static PlayFabResult<RevokeInventoryResult> privateRevokeInventoryItemAsync(final PlayFabInstanceAPI instance, final RevokeInventoryItemRequest request) throws Exception {
+        final PlayFabApiContext context = PlayFabInstanceAPI.contextOf(instance);
+        if (context.getDeveloperSecretKey() == null) throw new Exception ("Must have PlayFabSettings.DeveloperSecretKey set to call this method");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Admin/RevokeInventoryItem"), request, "X-SecretKey", PlayFabSettings.DeveloperSecretKey);
+        FutureTask<Object> task = PlayFabHTTP.doPost(context.getURL("/Admin/RevokeInventoryItem"), request, "X-SecretKey", context.getDeveloperSecretKey(), RevokeInventoryResult.class);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -5474,9 +5387,7 @@ public class PlayFabAdminAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
-
-        PlayFabJsonSuccess<RevokeInventoryResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<RevokeInventoryResult>>(){}.getType());
+        PlayFabJsonSuccess<RevokeInventoryResult> resultData = (PlayFabJsonSuccess<RevokeInventoryResult>) httpResult;
         RevokeInventoryResult result = resultData.data;
 
         PlayFabResult<RevokeInventoryResult> pfResult = new PlayFabResult<RevokeInventoryResult>();
@@ -5493,7 +5404,7 @@ public class PlayFabAdminAPI {
     public static FutureTask<PlayFabResult<RevokeInventoryItemsResult>> RevokeInventoryItemsAsync(final RevokeInventoryItemsRequest request) {
         return new FutureTask(new Callable<PlayFabResult<RevokeInventoryItemsResult>>() {
             public PlayFabResult<RevokeInventoryItemsResult> call() throws Exception {
-                return privateRevokeInventoryItemsAsync(request);
+                return privateRevokeInventoryItemsAsync(null, request);
             }
         });
     }
@@ -5507,7 +5418,7 @@ public class PlayFabAdminAPI {
     public static PlayFabResult<RevokeInventoryItemsResult> RevokeInventoryItems(final RevokeInventoryItemsRequest request) {
         FutureTask<PlayFabResult<RevokeInventoryItemsResult>> task = new FutureTask(new Callable<PlayFabResult<RevokeInventoryItemsResult>>() {
             public PlayFabResult<RevokeInventoryItemsResult> call() throws Exception {
-                return privateRevokeInventoryItemsAsync(request);
+                return privateRevokeInventoryItemsAsync(null, request);
             }
         });
         try {
@@ -5522,10 +5433,11 @@ public class PlayFabAdminAPI {
 
     /** Revokes access for up to 25 items across multiple users and characters. */
     @SuppressWarnings("unchecked")
-    private static PlayFabResult<RevokeInventoryItemsResult> privateRevokeInventoryItemsAsync(final RevokeInventoryItemsRequest request) throws Exception {
-        if (PlayFabSettings.DeveloperSecretKey == null) throw new Exception ("Must have PlayFabSettings.DeveloperSecretKey set to call this method");
+    static PlayFabResult<RevokeInventoryItemsResult> privateRevokeInventoryItemsAsync(final PlayFabInstanceAPI instance, final RevokeInventoryItemsRequest request) throws Exception {
+        final PlayFabApiContext context = PlayFabInstanceAPI.contextOf(instance);
+        if (context.getDeveloperSecretKey() == null) throw new Exception ("Must have PlayFabSettings.DeveloperSecretKey set to call this method");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Admin/RevokeInventoryItems"), request, "X-SecretKey", PlayFabSettings.DeveloperSecretKey);
+        FutureTask<Object> task = PlayFabHTTP.doPost(context.getURL("/Admin/RevokeInventoryItems"), request, "X-SecretKey", context.getDeveloperSecretKey(), RevokeInventoryItemsResult.class);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -5536,9 +5448,7 @@ public class PlayFabAdminAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
-
-        PlayFabJsonSuccess<RevokeInventoryItemsResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<RevokeInventoryItemsResult>>(){}.getType());
+        PlayFabJsonSuccess<RevokeInventoryItemsResult> resultData = (PlayFabJsonSuccess<RevokeInventoryItemsResult>) httpResult;
         RevokeInventoryItemsResult result = resultData.data;
 
         PlayFabResult<RevokeInventoryItemsResult> pfResult = new PlayFabResult<RevokeInventoryItemsResult>();
@@ -5555,7 +5465,7 @@ public class PlayFabAdminAPI {
     public static FutureTask<PlayFabResult<RunTaskResult>> RunTaskAsync(final RunTaskRequest request) {
         return new FutureTask(new Callable<PlayFabResult<RunTaskResult>>() {
             public PlayFabResult<RunTaskResult> call() throws Exception {
-                return privateRunTaskAsync(request);
+                return privateRunTaskAsync(null, request);
             }
         });
     }
@@ -5569,7 +5479,7 @@ public class PlayFabAdminAPI {
     public static PlayFabResult<RunTaskResult> RunTask(final RunTaskRequest request) {
         FutureTask<PlayFabResult<RunTaskResult>> task = new FutureTask(new Callable<PlayFabResult<RunTaskResult>>() {
             public PlayFabResult<RunTaskResult> call() throws Exception {
-                return privateRunTaskAsync(request);
+                return privateRunTaskAsync(null, request);
             }
         });
         try {
@@ -5584,10 +5494,11 @@ public class PlayFabAdminAPI {
 
     /** Run a task immediately regardless of its schedule. */
     @SuppressWarnings("unchecked")
-    private static PlayFabResult<RunTaskResult> privateRunTaskAsync(final RunTaskRequest request) throws Exception {
-        if (PlayFabSettings.DeveloperSecretKey == null) throw new Exception ("Must have PlayFabSettings.DeveloperSecretKey set to call this method");
+    static PlayFabResult<RunTaskResult> privateRunTaskAsync(final PlayFabInstanceAPI instance, final RunTaskRequest request) throws Exception {
+        final PlayFabApiContext context = PlayFabInstanceAPI.contextOf(instance);
+        if (context.getDeveloperSecretKey() == null) throw new Exception ("Must have PlayFabSettings.DeveloperSecretKey set to call this method");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Admin/RunTask"), request, "X-SecretKey", PlayFabSettings.DeveloperSecretKey);
+        FutureTask<Object> task = PlayFabHTTP.doPost(context.getURL("/Admin/RunTask"), request, "X-SecretKey", context.getDeveloperSecretKey(), RunTaskResult.class);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -5598,9 +5509,7 @@ public class PlayFabAdminAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
-
-        PlayFabJsonSuccess<RunTaskResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<RunTaskResult>>(){}.getType());
+        PlayFabJsonSuccess<RunTaskResult> resultData = (PlayFabJsonSuccess<RunTaskResult>) httpResult;
         RunTaskResult result = resultData.data;
 
         PlayFabResult<RunTaskResult> pfResult = new PlayFabResult<RunTaskResult>();
@@ -5619,7 +5528,7 @@ public class PlayFabAdminAPI {
     public static FutureTask<PlayFabResult<SendAccountRecoveryEmailResult>> SendAccountRecoveryEmailAsync(final SendAccountRecoveryEmailRequest request) {
         return new FutureTask(new Callable<PlayFabResult<SendAccountRecoveryEmailResult>>() {
             public PlayFabResult<SendAccountRecoveryEmailResult> call() throws Exception {
-                return privateSendAccountRecoveryEmailAsync(request);
+                return privateSendAccountRecoveryEmailAsync(null, request);
             }
         });
     }
@@ -5635,7 +5544,7 @@ public class PlayFabAdminAPI {
     public static PlayFabResult<SendAccountRecoveryEmailResult> SendAccountRecoveryEmail(final SendAccountRecoveryEmailRequest request) {
         FutureTask<PlayFabResult<SendAccountRecoveryEmailResult>> task = new FutureTask(new Callable<PlayFabResult<SendAccountRecoveryEmailResult>>() {
             public PlayFabResult<SendAccountRecoveryEmailResult> call() throws Exception {
-                return privateSendAccountRecoveryEmailAsync(request);
+                return privateSendAccountRecoveryEmailAsync(null, request);
             }
         });
         try {
@@ -5654,10 +5563,11 @@ public class PlayFabAdminAPI {
      * be used.
      */
     @SuppressWarnings("unchecked")
-    private static PlayFabResult<SendAccountRecoveryEmailResult> privateSendAccountRecoveryEmailAsync(final SendAccountRecoveryEmailRequest request) throws Exception {
-        if (PlayFabSettings.DeveloperSecretKey == null) throw new Exception ("Must have PlayFabSettings.DeveloperSecretKey set to call this method");
+    static PlayFabResult<SendAccountRecoveryEmailResult> privateSendAccountRecoveryEmailAsync(final PlayFabInstanceAPI instance, final SendAccountRecoveryEmailRequest request) throws Exception {
+        final PlayFabApiContext context = PlayFabInstanceAPI.contextOf(instance);
+        if (context.getDeveloperSecretKey() == null) throw new Exception ("Must have PlayFabSettings.DeveloperSecretKey set to call this method");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Admin/SendAccountRecoveryEmail"), request, "X-SecretKey", PlayFabSettings.DeveloperSecretKey);
+        FutureTask<Object> task = PlayFabHTTP.doPost(context.getURL("/Admin/SendAccountRecoveryEmail"), request, "X-SecretKey", context.getDeveloperSecretKey(), SendAccountRecoveryEmailResult.class);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -5668,9 +5578,7 @@ public class PlayFabAdminAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
-
-        PlayFabJsonSuccess<SendAccountRecoveryEmailResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<SendAccountRecoveryEmailResult>>(){}.getType());
+        PlayFabJsonSuccess<SendAccountRecoveryEmailResult> resultData = (PlayFabJsonSuccess<SendAccountRecoveryEmailResult>) httpResult;
         SendAccountRecoveryEmailResult result = resultData.data;
 
         PlayFabResult<SendAccountRecoveryEmailResult> pfResult = new PlayFabResult<SendAccountRecoveryEmailResult>();
@@ -5687,7 +5595,7 @@ public class PlayFabAdminAPI {
     public static FutureTask<PlayFabResult<UpdateCatalogItemsResult>> SetCatalogItemsAsync(final UpdateCatalogItemsRequest request) {
         return new FutureTask(new Callable<PlayFabResult<UpdateCatalogItemsResult>>() {
             public PlayFabResult<UpdateCatalogItemsResult> call() throws Exception {
-                return privateSetCatalogItemsAsync(request);
+                return privateSetCatalogItemsAsync(null, request);
             }
         });
     }
@@ -5701,7 +5609,7 @@ public class PlayFabAdminAPI {
     public static PlayFabResult<UpdateCatalogItemsResult> SetCatalogItems(final UpdateCatalogItemsRequest request) {
         FutureTask<PlayFabResult<UpdateCatalogItemsResult>> task = new FutureTask(new Callable<PlayFabResult<UpdateCatalogItemsResult>>() {
             public PlayFabResult<UpdateCatalogItemsResult> call() throws Exception {
-                return privateSetCatalogItemsAsync(request);
+                return privateSetCatalogItemsAsync(null, request);
             }
         });
         try {
@@ -5716,10 +5624,11 @@ public class PlayFabAdminAPI {
 
     /** Creates the catalog configuration of all virtual goods for the specified catalog version */
     @SuppressWarnings("unchecked")
-    private static PlayFabResult<UpdateCatalogItemsResult> privateSetCatalogItemsAsync(final UpdateCatalogItemsRequest request) throws Exception {
-        if (PlayFabSettings.DeveloperSecretKey == null) throw new Exception ("Must have PlayFabSettings.DeveloperSecretKey set to call this method");
+    static PlayFabResult<UpdateCatalogItemsResult> privateSetCatalogItemsAsync(final PlayFabInstanceAPI instance, final UpdateCatalogItemsRequest request) throws Exception {
+        final PlayFabApiContext context = PlayFabInstanceAPI.contextOf(instance);
+        if (context.getDeveloperSecretKey() == null) throw new Exception ("Must have PlayFabSettings.DeveloperSecretKey set to call this method");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Admin/SetCatalogItems"), request, "X-SecretKey", PlayFabSettings.DeveloperSecretKey);
+        FutureTask<Object> task = PlayFabHTTP.doPost(context.getURL("/Admin/SetCatalogItems"), request, "X-SecretKey", context.getDeveloperSecretKey(), UpdateCatalogItemsResult.class);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -5730,9 +5639,7 @@ public class PlayFabAdminAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
-
-        PlayFabJsonSuccess<UpdateCatalogItemsResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<UpdateCatalogItemsResult>>(){}.getType());
+        PlayFabJsonSuccess<UpdateCatalogItemsResult> resultData = (PlayFabJsonSuccess<UpdateCatalogItemsResult>) httpResult;
         UpdateCatalogItemsResult result = resultData.data;
 
         PlayFabResult<UpdateCatalogItemsResult> pfResult = new PlayFabResult<UpdateCatalogItemsResult>();
@@ -5749,7 +5656,7 @@ public class PlayFabAdminAPI {
     public static FutureTask<PlayFabResult<SetMembershipOverrideResult>> SetMembershipOverrideAsync(final SetMembershipOverrideRequest request) {
         return new FutureTask(new Callable<PlayFabResult<SetMembershipOverrideResult>>() {
             public PlayFabResult<SetMembershipOverrideResult> call() throws Exception {
-                return privateSetMembershipOverrideAsync(request);
+                return privateSetMembershipOverrideAsync(null, request);
             }
         });
     }
@@ -5763,7 +5670,7 @@ public class PlayFabAdminAPI {
     public static PlayFabResult<SetMembershipOverrideResult> SetMembershipOverride(final SetMembershipOverrideRequest request) {
         FutureTask<PlayFabResult<SetMembershipOverrideResult>> task = new FutureTask(new Callable<PlayFabResult<SetMembershipOverrideResult>>() {
             public PlayFabResult<SetMembershipOverrideResult> call() throws Exception {
-                return privateSetMembershipOverrideAsync(request);
+                return privateSetMembershipOverrideAsync(null, request);
             }
         });
         try {
@@ -5778,10 +5685,11 @@ public class PlayFabAdminAPI {
 
     /** Sets the override expiration for a membership subscription */
     @SuppressWarnings("unchecked")
-    private static PlayFabResult<SetMembershipOverrideResult> privateSetMembershipOverrideAsync(final SetMembershipOverrideRequest request) throws Exception {
-        if (PlayFabSettings.DeveloperSecretKey == null) throw new Exception ("Must have PlayFabSettings.DeveloperSecretKey set to call this method");
+    static PlayFabResult<SetMembershipOverrideResult> privateSetMembershipOverrideAsync(final PlayFabInstanceAPI instance, final SetMembershipOverrideRequest request) throws Exception {
+        final PlayFabApiContext context = PlayFabInstanceAPI.contextOf(instance);
+        if (context.getDeveloperSecretKey() == null) throw new Exception ("Must have PlayFabSettings.DeveloperSecretKey set to call this method");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Admin/SetMembershipOverride"), request, "X-SecretKey", PlayFabSettings.DeveloperSecretKey);
+        FutureTask<Object> task = PlayFabHTTP.doPost(context.getURL("/Admin/SetMembershipOverride"), request, "X-SecretKey", context.getDeveloperSecretKey(), SetMembershipOverrideResult.class);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -5792,9 +5700,7 @@ public class PlayFabAdminAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
-
-        PlayFabJsonSuccess<SetMembershipOverrideResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<SetMembershipOverrideResult>>(){}.getType());
+        PlayFabJsonSuccess<SetMembershipOverrideResult> resultData = (PlayFabJsonSuccess<SetMembershipOverrideResult>) httpResult;
         SetMembershipOverrideResult result = resultData.data;
 
         PlayFabResult<SetMembershipOverrideResult> pfResult = new PlayFabResult<SetMembershipOverrideResult>();
@@ -5811,7 +5717,7 @@ public class PlayFabAdminAPI {
     public static FutureTask<PlayFabResult<SetPlayerSecretResult>> SetPlayerSecretAsync(final SetPlayerSecretRequest request) {
         return new FutureTask(new Callable<PlayFabResult<SetPlayerSecretResult>>() {
             public PlayFabResult<SetPlayerSecretResult> call() throws Exception {
-                return privateSetPlayerSecretAsync(request);
+                return privateSetPlayerSecretAsync(null, request);
             }
         });
     }
@@ -5825,7 +5731,7 @@ public class PlayFabAdminAPI {
     public static PlayFabResult<SetPlayerSecretResult> SetPlayerSecret(final SetPlayerSecretRequest request) {
         FutureTask<PlayFabResult<SetPlayerSecretResult>> task = new FutureTask(new Callable<PlayFabResult<SetPlayerSecretResult>>() {
             public PlayFabResult<SetPlayerSecretResult> call() throws Exception {
-                return privateSetPlayerSecretAsync(request);
+                return privateSetPlayerSecretAsync(null, request);
             }
         });
         try {
@@ -5840,10 +5746,11 @@ public class PlayFabAdminAPI {
 
     /** Sets or resets the player's secret. Player secrets are used to sign API requests. */
     @SuppressWarnings("unchecked")
-    private static PlayFabResult<SetPlayerSecretResult> privateSetPlayerSecretAsync(final SetPlayerSecretRequest request) throws Exception {
-        if (PlayFabSettings.DeveloperSecretKey == null) throw new Exception ("Must have PlayFabSettings.DeveloperSecretKey set to call this method");
+    static PlayFabResult<SetPlayerSecretResult> privateSetPlayerSecretAsync(final PlayFabInstanceAPI instance, final SetPlayerSecretRequest request) throws Exception {
+        final PlayFabApiContext context = PlayFabInstanceAPI.contextOf(instance);
+        if (context.getDeveloperSecretKey() == null) throw new Exception ("Must have PlayFabSettings.DeveloperSecretKey set to call this method");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Admin/SetPlayerSecret"), request, "X-SecretKey", PlayFabSettings.DeveloperSecretKey);
+        FutureTask<Object> task = PlayFabHTTP.doPost(context.getURL("/Admin/SetPlayerSecret"), request, "X-SecretKey", context.getDeveloperSecretKey(), SetPlayerSecretResult.class);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -5854,9 +5761,7 @@ public class PlayFabAdminAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
-
-        PlayFabJsonSuccess<SetPlayerSecretResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<SetPlayerSecretResult>>(){}.getType());
+        PlayFabJsonSuccess<SetPlayerSecretResult> resultData = (PlayFabJsonSuccess<SetPlayerSecretResult>) httpResult;
         SetPlayerSecretResult result = resultData.data;
 
         PlayFabResult<SetPlayerSecretResult> pfResult = new PlayFabResult<SetPlayerSecretResult>();
@@ -5873,7 +5778,7 @@ public class PlayFabAdminAPI {
     public static FutureTask<PlayFabResult<SetPublishedRevisionResult>> SetPublishedRevisionAsync(final SetPublishedRevisionRequest request) {
         return new FutureTask(new Callable<PlayFabResult<SetPublishedRevisionResult>>() {
             public PlayFabResult<SetPublishedRevisionResult> call() throws Exception {
-                return privateSetPublishedRevisionAsync(request);
+                return privateSetPublishedRevisionAsync(null, request);
             }
         });
     }
@@ -5887,7 +5792,7 @@ public class PlayFabAdminAPI {
     public static PlayFabResult<SetPublishedRevisionResult> SetPublishedRevision(final SetPublishedRevisionRequest request) {
         FutureTask<PlayFabResult<SetPublishedRevisionResult>> task = new FutureTask(new Callable<PlayFabResult<SetPublishedRevisionResult>>() {
             public PlayFabResult<SetPublishedRevisionResult> call() throws Exception {
-                return privateSetPublishedRevisionAsync(request);
+                return privateSetPublishedRevisionAsync(null, request);
             }
         });
         try {
@@ -5902,10 +5807,11 @@ public class PlayFabAdminAPI {
 
     /** Sets the currently published revision of a title Cloud Script */
     @SuppressWarnings("unchecked")
-    private static PlayFabResult<SetPublishedRevisionResult> privateSetPublishedRevisionAsync(final SetPublishedRevisionRequest request) throws Exception {
-        if (PlayFabSettings.DeveloperSecretKey == null) throw new Exception ("Must have PlayFabSettings.DeveloperSecretKey set to call this method");
+    static PlayFabResult<SetPublishedRevisionResult> privateSetPublishedRevisionAsync(final PlayFabInstanceAPI instance, final SetPublishedRevisionRequest request) throws Exception {
+        final PlayFabApiContext context = PlayFabInstanceAPI.contextOf(instance);
+        if (context.getDeveloperSecretKey() == null) throw new Exception ("Must have PlayFabSettings.DeveloperSecretKey set to call this method");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Admin/SetPublishedRevision"), request, "X-SecretKey", PlayFabSettings.DeveloperSecretKey);
+        FutureTask<Object> task = PlayFabHTTP.doPost(context.getURL("/Admin/SetPublishedRevision"), request, "X-SecretKey", context.getDeveloperSecretKey(), SetPublishedRevisionResult.class);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -5916,9 +5822,7 @@ public class PlayFabAdminAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
-
-        PlayFabJsonSuccess<SetPublishedRevisionResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<SetPublishedRevisionResult>>(){}.getType());
+        PlayFabJsonSuccess<SetPublishedRevisionResult> resultData = (PlayFabJsonSuccess<SetPublishedRevisionResult>) httpResult;
         SetPublishedRevisionResult result = resultData.data;
 
         PlayFabResult<SetPublishedRevisionResult> pfResult = new PlayFabResult<SetPublishedRevisionResult>();
@@ -5935,7 +5839,7 @@ public class PlayFabAdminAPI {
     public static FutureTask<PlayFabResult<SetPublisherDataResult>> SetPublisherDataAsync(final SetPublisherDataRequest request) {
         return new FutureTask(new Callable<PlayFabResult<SetPublisherDataResult>>() {
             public PlayFabResult<SetPublisherDataResult> call() throws Exception {
-                return privateSetPublisherDataAsync(request);
+                return privateSetPublisherDataAsync(null, request);
             }
         });
     }
@@ -5949,7 +5853,7 @@ public class PlayFabAdminAPI {
     public static PlayFabResult<SetPublisherDataResult> SetPublisherData(final SetPublisherDataRequest request) {
         FutureTask<PlayFabResult<SetPublisherDataResult>> task = new FutureTask(new Callable<PlayFabResult<SetPublisherDataResult>>() {
             public PlayFabResult<SetPublisherDataResult> call() throws Exception {
-                return privateSetPublisherDataAsync(request);
+                return privateSetPublisherDataAsync(null, request);
             }
         });
         try {
@@ -5964,10 +5868,11 @@ public class PlayFabAdminAPI {
 
     /** Updates the key-value store of custom publisher settings */
     @SuppressWarnings("unchecked")
-    private static PlayFabResult<SetPublisherDataResult> privateSetPublisherDataAsync(final SetPublisherDataRequest request) throws Exception {
-        if (PlayFabSettings.DeveloperSecretKey == null) throw new Exception ("Must have PlayFabSettings.DeveloperSecretKey set to call this method");
+    static PlayFabResult<SetPublisherDataResult> privateSetPublisherDataAsync(final PlayFabInstanceAPI instance, final SetPublisherDataRequest request) throws Exception {
+        final PlayFabApiContext context = PlayFabInstanceAPI.contextOf(instance);
+        if (context.getDeveloperSecretKey() == null) throw new Exception ("Must have PlayFabSettings.DeveloperSecretKey set to call this method");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Admin/SetPublisherData"), request, "X-SecretKey", PlayFabSettings.DeveloperSecretKey);
+        FutureTask<Object> task = PlayFabHTTP.doPost(context.getURL("/Admin/SetPublisherData"), request, "X-SecretKey", context.getDeveloperSecretKey(), SetPublisherDataResult.class);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -5978,9 +5883,7 @@ public class PlayFabAdminAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
-
-        PlayFabJsonSuccess<SetPublisherDataResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<SetPublisherDataResult>>(){}.getType());
+        PlayFabJsonSuccess<SetPublisherDataResult> resultData = (PlayFabJsonSuccess<SetPublisherDataResult>) httpResult;
         SetPublisherDataResult result = resultData.data;
 
         PlayFabResult<SetPublisherDataResult> pfResult = new PlayFabResult<SetPublisherDataResult>();
@@ -5997,7 +5900,7 @@ public class PlayFabAdminAPI {
     public static FutureTask<PlayFabResult<UpdateStoreItemsResult>> SetStoreItemsAsync(final UpdateStoreItemsRequest request) {
         return new FutureTask(new Callable<PlayFabResult<UpdateStoreItemsResult>>() {
             public PlayFabResult<UpdateStoreItemsResult> call() throws Exception {
-                return privateSetStoreItemsAsync(request);
+                return privateSetStoreItemsAsync(null, request);
             }
         });
     }
@@ -6011,7 +5914,7 @@ public class PlayFabAdminAPI {
     public static PlayFabResult<UpdateStoreItemsResult> SetStoreItems(final UpdateStoreItemsRequest request) {
         FutureTask<PlayFabResult<UpdateStoreItemsResult>> task = new FutureTask(new Callable<PlayFabResult<UpdateStoreItemsResult>>() {
             public PlayFabResult<UpdateStoreItemsResult> call() throws Exception {
-                return privateSetStoreItemsAsync(request);
+                return privateSetStoreItemsAsync(null, request);
             }
         });
         try {
@@ -6026,10 +5929,11 @@ public class PlayFabAdminAPI {
 
     /** Sets all the items in one virtual store */
     @SuppressWarnings("unchecked")
-    private static PlayFabResult<UpdateStoreItemsResult> privateSetStoreItemsAsync(final UpdateStoreItemsRequest request) throws Exception {
-        if (PlayFabSettings.DeveloperSecretKey == null) throw new Exception ("Must have PlayFabSettings.DeveloperSecretKey set to call this method");
+    static PlayFabResult<UpdateStoreItemsResult> privateSetStoreItemsAsync(final PlayFabInstanceAPI instance, final UpdateStoreItemsRequest request) throws Exception {
+        final PlayFabApiContext context = PlayFabInstanceAPI.contextOf(instance);
+        if (context.getDeveloperSecretKey() == null) throw new Exception ("Must have PlayFabSettings.DeveloperSecretKey set to call this method");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Admin/SetStoreItems"), request, "X-SecretKey", PlayFabSettings.DeveloperSecretKey);
+        FutureTask<Object> task = PlayFabHTTP.doPost(context.getURL("/Admin/SetStoreItems"), request, "X-SecretKey", context.getDeveloperSecretKey(), UpdateStoreItemsResult.class);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -6040,9 +5944,7 @@ public class PlayFabAdminAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
-
-        PlayFabJsonSuccess<UpdateStoreItemsResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<UpdateStoreItemsResult>>(){}.getType());
+        PlayFabJsonSuccess<UpdateStoreItemsResult> resultData = (PlayFabJsonSuccess<UpdateStoreItemsResult>) httpResult;
         UpdateStoreItemsResult result = resultData.data;
 
         PlayFabResult<UpdateStoreItemsResult> pfResult = new PlayFabResult<UpdateStoreItemsResult>();
@@ -6059,7 +5961,7 @@ public class PlayFabAdminAPI {
     public static FutureTask<PlayFabResult<SetTitleDataResult>> SetTitleDataAsync(final SetTitleDataRequest request) {
         return new FutureTask(new Callable<PlayFabResult<SetTitleDataResult>>() {
             public PlayFabResult<SetTitleDataResult> call() throws Exception {
-                return privateSetTitleDataAsync(request);
+                return privateSetTitleDataAsync(null, request);
             }
         });
     }
@@ -6073,7 +5975,7 @@ public class PlayFabAdminAPI {
     public static PlayFabResult<SetTitleDataResult> SetTitleData(final SetTitleDataRequest request) {
         FutureTask<PlayFabResult<SetTitleDataResult>> task = new FutureTask(new Callable<PlayFabResult<SetTitleDataResult>>() {
             public PlayFabResult<SetTitleDataResult> call() throws Exception {
-                return privateSetTitleDataAsync(request);
+                return privateSetTitleDataAsync(null, request);
             }
         });
         try {
@@ -6088,10 +5990,11 @@ public class PlayFabAdminAPI {
 
     /** Creates and updates the key-value store of custom title settings which can be read by the client */
     @SuppressWarnings("unchecked")
-    private static PlayFabResult<SetTitleDataResult> privateSetTitleDataAsync(final SetTitleDataRequest request) throws Exception {
-        if (PlayFabSettings.DeveloperSecretKey == null) throw new Exception ("Must have PlayFabSettings.DeveloperSecretKey set to call this method");
+    static PlayFabResult<SetTitleDataResult> privateSetTitleDataAsync(final PlayFabInstanceAPI instance, final SetTitleDataRequest request) throws Exception {
+        final PlayFabApiContext context = PlayFabInstanceAPI.contextOf(instance);
+        if (context.getDeveloperSecretKey() == null) throw new Exception ("Must have PlayFabSettings.DeveloperSecretKey set to call this method");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Admin/SetTitleData"), request, "X-SecretKey", PlayFabSettings.DeveloperSecretKey);
+        FutureTask<Object> task = PlayFabHTTP.doPost(context.getURL("/Admin/SetTitleData"), request, "X-SecretKey", context.getDeveloperSecretKey(), SetTitleDataResult.class);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -6102,9 +6005,7 @@ public class PlayFabAdminAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
-
-        PlayFabJsonSuccess<SetTitleDataResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<SetTitleDataResult>>(){}.getType());
+        PlayFabJsonSuccess<SetTitleDataResult> resultData = (PlayFabJsonSuccess<SetTitleDataResult>) httpResult;
         SetTitleDataResult result = resultData.data;
 
         PlayFabResult<SetTitleDataResult> pfResult = new PlayFabResult<SetTitleDataResult>();
@@ -6121,7 +6022,7 @@ public class PlayFabAdminAPI {
     public static FutureTask<PlayFabResult<SetTitleDataAndOverridesResult>> SetTitleDataAndOverridesAsync(final SetTitleDataAndOverridesRequest request) {
         return new FutureTask(new Callable<PlayFabResult<SetTitleDataAndOverridesResult>>() {
             public PlayFabResult<SetTitleDataAndOverridesResult> call() throws Exception {
-                return privateSetTitleDataAndOverridesAsync(request);
+                return privateSetTitleDataAndOverridesAsync(null, request);
             }
         });
     }
@@ -6135,7 +6036,7 @@ public class PlayFabAdminAPI {
     public static PlayFabResult<SetTitleDataAndOverridesResult> SetTitleDataAndOverrides(final SetTitleDataAndOverridesRequest request) {
         FutureTask<PlayFabResult<SetTitleDataAndOverridesResult>> task = new FutureTask(new Callable<PlayFabResult<SetTitleDataAndOverridesResult>>() {
             public PlayFabResult<SetTitleDataAndOverridesResult> call() throws Exception {
-                return privateSetTitleDataAndOverridesAsync(request);
+                return privateSetTitleDataAndOverridesAsync(null, request);
             }
         });
         try {
@@ -6150,10 +6051,11 @@ public class PlayFabAdminAPI {
 
     /** Set and delete key-value pairs in a title data override instance. */
     @SuppressWarnings("unchecked")
-    private static PlayFabResult<SetTitleDataAndOverridesResult> privateSetTitleDataAndOverridesAsync(final SetTitleDataAndOverridesRequest request) throws Exception {
-        if (PlayFabSettings.DeveloperSecretKey == null) throw new Exception ("Must have PlayFabSettings.DeveloperSecretKey set to call this method");
+    static PlayFabResult<SetTitleDataAndOverridesResult> privateSetTitleDataAndOverridesAsync(final PlayFabInstanceAPI instance, final SetTitleDataAndOverridesRequest request) throws Exception {
+        final PlayFabApiContext context = PlayFabInstanceAPI.contextOf(instance);
+        if (context.getDeveloperSecretKey() == null) throw new Exception ("Must have PlayFabSettings.DeveloperSecretKey set to call this method");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Admin/SetTitleDataAndOverrides"), request, "X-SecretKey", PlayFabSettings.DeveloperSecretKey);
+        FutureTask<Object> task = PlayFabHTTP.doPost(context.getURL("/Admin/SetTitleDataAndOverrides"), request, "X-SecretKey", context.getDeveloperSecretKey(), SetTitleDataAndOverridesResult.class);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -6164,9 +6066,7 @@ public class PlayFabAdminAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
-
-        PlayFabJsonSuccess<SetTitleDataAndOverridesResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<SetTitleDataAndOverridesResult>>(){}.getType());
+        PlayFabJsonSuccess<SetTitleDataAndOverridesResult> resultData = (PlayFabJsonSuccess<SetTitleDataAndOverridesResult>) httpResult;
         SetTitleDataAndOverridesResult result = resultData.data;
 
         PlayFabResult<SetTitleDataAndOverridesResult> pfResult = new PlayFabResult<SetTitleDataAndOverridesResult>();
@@ -6183,7 +6083,7 @@ public class PlayFabAdminAPI {
     public static FutureTask<PlayFabResult<SetTitleDataResult>> SetTitleInternalDataAsync(final SetTitleDataRequest request) {
         return new FutureTask(new Callable<PlayFabResult<SetTitleDataResult>>() {
             public PlayFabResult<SetTitleDataResult> call() throws Exception {
-                return privateSetTitleInternalDataAsync(request);
+                return privateSetTitleInternalDataAsync(null, request);
             }
         });
     }
@@ -6197,7 +6097,7 @@ public class PlayFabAdminAPI {
     public static PlayFabResult<SetTitleDataResult> SetTitleInternalData(final SetTitleDataRequest request) {
         FutureTask<PlayFabResult<SetTitleDataResult>> task = new FutureTask(new Callable<PlayFabResult<SetTitleDataResult>>() {
             public PlayFabResult<SetTitleDataResult> call() throws Exception {
-                return privateSetTitleInternalDataAsync(request);
+                return privateSetTitleInternalDataAsync(null, request);
             }
         });
         try {
@@ -6212,10 +6112,11 @@ public class PlayFabAdminAPI {
 
     /** Updates the key-value store of custom title settings which cannot be read by the client */
     @SuppressWarnings("unchecked")
-    private static PlayFabResult<SetTitleDataResult> privateSetTitleInternalDataAsync(final SetTitleDataRequest request) throws Exception {
-        if (PlayFabSettings.DeveloperSecretKey == null) throw new Exception ("Must have PlayFabSettings.DeveloperSecretKey set to call this method");
+    static PlayFabResult<SetTitleDataResult> privateSetTitleInternalDataAsync(final PlayFabInstanceAPI instance, final SetTitleDataRequest request) throws Exception {
+        final PlayFabApiContext context = PlayFabInstanceAPI.contextOf(instance);
+        if (context.getDeveloperSecretKey() == null) throw new Exception ("Must have PlayFabSettings.DeveloperSecretKey set to call this method");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Admin/SetTitleInternalData"), request, "X-SecretKey", PlayFabSettings.DeveloperSecretKey);
+        FutureTask<Object> task = PlayFabHTTP.doPost(context.getURL("/Admin/SetTitleInternalData"), request, "X-SecretKey", context.getDeveloperSecretKey(), SetTitleDataResult.class);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -6226,9 +6127,7 @@ public class PlayFabAdminAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
-
-        PlayFabJsonSuccess<SetTitleDataResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<SetTitleDataResult>>(){}.getType());
+        PlayFabJsonSuccess<SetTitleDataResult> resultData = (PlayFabJsonSuccess<SetTitleDataResult>) httpResult;
         SetTitleDataResult result = resultData.data;
 
         PlayFabResult<SetTitleDataResult> pfResult = new PlayFabResult<SetTitleDataResult>();
@@ -6247,7 +6146,7 @@ public class PlayFabAdminAPI {
     public static FutureTask<PlayFabResult<SetupPushNotificationResult>> SetupPushNotificationAsync(final SetupPushNotificationRequest request) {
         return new FutureTask(new Callable<PlayFabResult<SetupPushNotificationResult>>() {
             public PlayFabResult<SetupPushNotificationResult> call() throws Exception {
-                return privateSetupPushNotificationAsync(request);
+                return privateSetupPushNotificationAsync(null, request);
             }
         });
     }
@@ -6263,7 +6162,7 @@ public class PlayFabAdminAPI {
     public static PlayFabResult<SetupPushNotificationResult> SetupPushNotification(final SetupPushNotificationRequest request) {
         FutureTask<PlayFabResult<SetupPushNotificationResult>> task = new FutureTask(new Callable<PlayFabResult<SetupPushNotificationResult>>() {
             public PlayFabResult<SetupPushNotificationResult> call() throws Exception {
-                return privateSetupPushNotificationAsync(request);
+                return privateSetupPushNotificationAsync(null, request);
             }
         });
         try {
@@ -6282,10 +6181,11 @@ public class PlayFabAdminAPI {
      * Messaging is not supported.
      */
     @SuppressWarnings("unchecked")
-    private static PlayFabResult<SetupPushNotificationResult> privateSetupPushNotificationAsync(final SetupPushNotificationRequest request) throws Exception {
-        if (PlayFabSettings.DeveloperSecretKey == null) throw new Exception ("Must have PlayFabSettings.DeveloperSecretKey set to call this method");
+    static PlayFabResult<SetupPushNotificationResult> privateSetupPushNotificationAsync(final PlayFabInstanceAPI instance, final SetupPushNotificationRequest request) throws Exception {
+        final PlayFabApiContext context = PlayFabInstanceAPI.contextOf(instance);
+        if (context.getDeveloperSecretKey() == null) throw new Exception ("Must have PlayFabSettings.DeveloperSecretKey set to call this method");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Admin/SetupPushNotification"), request, "X-SecretKey", PlayFabSettings.DeveloperSecretKey);
+        FutureTask<Object> task = PlayFabHTTP.doPost(context.getURL("/Admin/SetupPushNotification"), request, "X-SecretKey", context.getDeveloperSecretKey(), SetupPushNotificationResult.class);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -6296,9 +6196,7 @@ public class PlayFabAdminAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
-
-        PlayFabJsonSuccess<SetupPushNotificationResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<SetupPushNotificationResult>>(){}.getType());
+        PlayFabJsonSuccess<SetupPushNotificationResult> resultData = (PlayFabJsonSuccess<SetupPushNotificationResult>) httpResult;
         SetupPushNotificationResult result = resultData.data;
 
         PlayFabResult<SetupPushNotificationResult> pfResult = new PlayFabResult<SetupPushNotificationResult>();
@@ -6315,7 +6213,7 @@ public class PlayFabAdminAPI {
     public static FutureTask<PlayFabResult<ModifyUserVirtualCurrencyResult>> SubtractUserVirtualCurrencyAsync(final SubtractUserVirtualCurrencyRequest request) {
         return new FutureTask(new Callable<PlayFabResult<ModifyUserVirtualCurrencyResult>>() {
             public PlayFabResult<ModifyUserVirtualCurrencyResult> call() throws Exception {
-                return privateSubtractUserVirtualCurrencyAsync(request);
+                return privateSubtractUserVirtualCurrencyAsync(null, request);
             }
         });
     }
@@ -6329,7 +6227,7 @@ public class PlayFabAdminAPI {
     public static PlayFabResult<ModifyUserVirtualCurrencyResult> SubtractUserVirtualCurrency(final SubtractUserVirtualCurrencyRequest request) {
         FutureTask<PlayFabResult<ModifyUserVirtualCurrencyResult>> task = new FutureTask(new Callable<PlayFabResult<ModifyUserVirtualCurrencyResult>>() {
             public PlayFabResult<ModifyUserVirtualCurrencyResult> call() throws Exception {
-                return privateSubtractUserVirtualCurrencyAsync(request);
+                return privateSubtractUserVirtualCurrencyAsync(null, request);
             }
         });
         try {
@@ -6344,10 +6242,11 @@ public class PlayFabAdminAPI {
 
     /** Decrements the specified virtual currency by the stated amount */
     @SuppressWarnings("unchecked")
-    private static PlayFabResult<ModifyUserVirtualCurrencyResult> privateSubtractUserVirtualCurrencyAsync(final SubtractUserVirtualCurrencyRequest request) throws Exception {
-        if (PlayFabSettings.DeveloperSecretKey == null) throw new Exception ("Must have PlayFabSettings.DeveloperSecretKey set to call this method");
+    static PlayFabResult<ModifyUserVirtualCurrencyResult> privateSubtractUserVirtualCurrencyAsync(final PlayFabInstanceAPI instance, final SubtractUserVirtualCurrencyRequest request) throws Exception {
+        final PlayFabApiContext context = PlayFabInstanceAPI.contextOf(instance);
+        if (context.getDeveloperSecretKey() == null) throw new Exception ("Must have PlayFabSettings.DeveloperSecretKey set to call this method");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Admin/SubtractUserVirtualCurrency"), request, "X-SecretKey", PlayFabSettings.DeveloperSecretKey);
+        FutureTask<Object> task = PlayFabHTTP.doPost(context.getURL("/Admin/SubtractUserVirtualCurrency"), request, "X-SecretKey", context.getDeveloperSecretKey(), ModifyUserVirtualCurrencyResult.class);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -6358,9 +6257,7 @@ public class PlayFabAdminAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
-
-        PlayFabJsonSuccess<ModifyUserVirtualCurrencyResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<ModifyUserVirtualCurrencyResult>>(){}.getType());
+        PlayFabJsonSuccess<ModifyUserVirtualCurrencyResult> resultData = (PlayFabJsonSuccess<ModifyUserVirtualCurrencyResult>) httpResult;
         ModifyUserVirtualCurrencyResult result = resultData.data;
 
         PlayFabResult<ModifyUserVirtualCurrencyResult> pfResult = new PlayFabResult<ModifyUserVirtualCurrencyResult>();
@@ -6377,7 +6274,7 @@ public class PlayFabAdminAPI {
     public static FutureTask<PlayFabResult<UpdateBansResult>> UpdateBansAsync(final UpdateBansRequest request) {
         return new FutureTask(new Callable<PlayFabResult<UpdateBansResult>>() {
             public PlayFabResult<UpdateBansResult> call() throws Exception {
-                return privateUpdateBansAsync(request);
+                return privateUpdateBansAsync(null, request);
             }
         });
     }
@@ -6391,7 +6288,7 @@ public class PlayFabAdminAPI {
     public static PlayFabResult<UpdateBansResult> UpdateBans(final UpdateBansRequest request) {
         FutureTask<PlayFabResult<UpdateBansResult>> task = new FutureTask(new Callable<PlayFabResult<UpdateBansResult>>() {
             public PlayFabResult<UpdateBansResult> call() throws Exception {
-                return privateUpdateBansAsync(request);
+                return privateUpdateBansAsync(null, request);
             }
         });
         try {
@@ -6406,10 +6303,11 @@ public class PlayFabAdminAPI {
 
     /** Updates information of a list of existing bans specified with Ban Ids. */
     @SuppressWarnings("unchecked")
-    private static PlayFabResult<UpdateBansResult> privateUpdateBansAsync(final UpdateBansRequest request) throws Exception {
-        if (PlayFabSettings.DeveloperSecretKey == null) throw new Exception ("Must have PlayFabSettings.DeveloperSecretKey set to call this method");
+    static PlayFabResult<UpdateBansResult> privateUpdateBansAsync(final PlayFabInstanceAPI instance, final UpdateBansRequest request) throws Exception {
+        final PlayFabApiContext context = PlayFabInstanceAPI.contextOf(instance);
+        if (context.getDeveloperSecretKey() == null) throw new Exception ("Must have PlayFabSettings.DeveloperSecretKey set to call this method");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Admin/UpdateBans"), request, "X-SecretKey", PlayFabSettings.DeveloperSecretKey);
+        FutureTask<Object> task = PlayFabHTTP.doPost(context.getURL("/Admin/UpdateBans"), request, "X-SecretKey", context.getDeveloperSecretKey(), UpdateBansResult.class);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -6420,9 +6318,7 @@ public class PlayFabAdminAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
-
-        PlayFabJsonSuccess<UpdateBansResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<UpdateBansResult>>(){}.getType());
+        PlayFabJsonSuccess<UpdateBansResult> resultData = (PlayFabJsonSuccess<UpdateBansResult>) httpResult;
         UpdateBansResult result = resultData.data;
 
         PlayFabResult<UpdateBansResult> pfResult = new PlayFabResult<UpdateBansResult>();
@@ -6439,7 +6335,7 @@ public class PlayFabAdminAPI {
     public static FutureTask<PlayFabResult<UpdateCatalogItemsResult>> UpdateCatalogItemsAsync(final UpdateCatalogItemsRequest request) {
         return new FutureTask(new Callable<PlayFabResult<UpdateCatalogItemsResult>>() {
             public PlayFabResult<UpdateCatalogItemsResult> call() throws Exception {
-                return privateUpdateCatalogItemsAsync(request);
+                return privateUpdateCatalogItemsAsync(null, request);
             }
         });
     }
@@ -6453,7 +6349,7 @@ public class PlayFabAdminAPI {
     public static PlayFabResult<UpdateCatalogItemsResult> UpdateCatalogItems(final UpdateCatalogItemsRequest request) {
         FutureTask<PlayFabResult<UpdateCatalogItemsResult>> task = new FutureTask(new Callable<PlayFabResult<UpdateCatalogItemsResult>>() {
             public PlayFabResult<UpdateCatalogItemsResult> call() throws Exception {
-                return privateUpdateCatalogItemsAsync(request);
+                return privateUpdateCatalogItemsAsync(null, request);
             }
         });
         try {
@@ -6468,10 +6364,11 @@ public class PlayFabAdminAPI {
 
     /** Updates the catalog configuration for virtual goods in the specified catalog version */
     @SuppressWarnings("unchecked")
-    private static PlayFabResult<UpdateCatalogItemsResult> privateUpdateCatalogItemsAsync(final UpdateCatalogItemsRequest request) throws Exception {
-        if (PlayFabSettings.DeveloperSecretKey == null) throw new Exception ("Must have PlayFabSettings.DeveloperSecretKey set to call this method");
+    static PlayFabResult<UpdateCatalogItemsResult> privateUpdateCatalogItemsAsync(final PlayFabInstanceAPI instance, final UpdateCatalogItemsRequest request) throws Exception {
+        final PlayFabApiContext context = PlayFabInstanceAPI.contextOf(instance);
+        if (context.getDeveloperSecretKey() == null) throw new Exception ("Must have PlayFabSettings.DeveloperSecretKey set to call this method");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Admin/UpdateCatalogItems"), request, "X-SecretKey", PlayFabSettings.DeveloperSecretKey);
+        FutureTask<Object> task = PlayFabHTTP.doPost(context.getURL("/Admin/UpdateCatalogItems"), request, "X-SecretKey", context.getDeveloperSecretKey(), UpdateCatalogItemsResult.class);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -6482,9 +6379,7 @@ public class PlayFabAdminAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
-
-        PlayFabJsonSuccess<UpdateCatalogItemsResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<UpdateCatalogItemsResult>>(){}.getType());
+        PlayFabJsonSuccess<UpdateCatalogItemsResult> resultData = (PlayFabJsonSuccess<UpdateCatalogItemsResult>) httpResult;
         UpdateCatalogItemsResult result = resultData.data;
 
         PlayFabResult<UpdateCatalogItemsResult> pfResult = new PlayFabResult<UpdateCatalogItemsResult>();
@@ -6502,7 +6397,7 @@ public class PlayFabAdminAPI {
     public static FutureTask<PlayFabResult<UpdateCloudScriptResult>> UpdateCloudScriptAsync(final UpdateCloudScriptRequest request) {
         return new FutureTask(new Callable<PlayFabResult<UpdateCloudScriptResult>>() {
             public PlayFabResult<UpdateCloudScriptResult> call() throws Exception {
-                return privateUpdateCloudScriptAsync(request);
+                return privateUpdateCloudScriptAsync(null, request);
             }
         });
     }
@@ -6517,7 +6412,7 @@ public class PlayFabAdminAPI {
     public static PlayFabResult<UpdateCloudScriptResult> UpdateCloudScript(final UpdateCloudScriptRequest request) {
         FutureTask<PlayFabResult<UpdateCloudScriptResult>> task = new FutureTask(new Callable<PlayFabResult<UpdateCloudScriptResult>>() {
             public PlayFabResult<UpdateCloudScriptResult> call() throws Exception {
-                return privateUpdateCloudScriptAsync(request);
+                return privateUpdateCloudScriptAsync(null, request);
             }
         });
         try {
@@ -6535,10 +6430,11 @@ public class PlayFabAdminAPI {
      * submitted in the revision.
      */
     @SuppressWarnings("unchecked")
-    private static PlayFabResult<UpdateCloudScriptResult> privateUpdateCloudScriptAsync(final UpdateCloudScriptRequest request) throws Exception {
-        if (PlayFabSettings.DeveloperSecretKey == null) throw new Exception ("Must have PlayFabSettings.DeveloperSecretKey set to call this method");
+    static PlayFabResult<UpdateCloudScriptResult> privateUpdateCloudScriptAsync(final PlayFabInstanceAPI instance, final UpdateCloudScriptRequest request) throws Exception {
+        final PlayFabApiContext context = PlayFabInstanceAPI.contextOf(instance);
+        if (context.getDeveloperSecretKey() == null) throw new Exception ("Must have PlayFabSettings.DeveloperSecretKey set to call this method");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Admin/UpdateCloudScript"), request, "X-SecretKey", PlayFabSettings.DeveloperSecretKey);
+        FutureTask<Object> task = PlayFabHTTP.doPost(context.getURL("/Admin/UpdateCloudScript"), request, "X-SecretKey", context.getDeveloperSecretKey(), UpdateCloudScriptResult.class);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -6549,9 +6445,7 @@ public class PlayFabAdminAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
-
-        PlayFabJsonSuccess<UpdateCloudScriptResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<UpdateCloudScriptResult>>(){}.getType());
+        PlayFabJsonSuccess<UpdateCloudScriptResult> resultData = (PlayFabJsonSuccess<UpdateCloudScriptResult>) httpResult;
         UpdateCloudScriptResult result = resultData.data;
 
         PlayFabResult<UpdateCloudScriptResult> pfResult = new PlayFabResult<UpdateCloudScriptResult>();
@@ -6568,7 +6462,7 @@ public class PlayFabAdminAPI {
     public static FutureTask<PlayFabResult<EmptyResponse>> UpdateOpenIdConnectionAsync(final UpdateOpenIdConnectionRequest request) {
         return new FutureTask(new Callable<PlayFabResult<EmptyResponse>>() {
             public PlayFabResult<EmptyResponse> call() throws Exception {
-                return privateUpdateOpenIdConnectionAsync(request);
+                return privateUpdateOpenIdConnectionAsync(null, request);
             }
         });
     }
@@ -6582,7 +6476,7 @@ public class PlayFabAdminAPI {
     public static PlayFabResult<EmptyResponse> UpdateOpenIdConnection(final UpdateOpenIdConnectionRequest request) {
         FutureTask<PlayFabResult<EmptyResponse>> task = new FutureTask(new Callable<PlayFabResult<EmptyResponse>>() {
             public PlayFabResult<EmptyResponse> call() throws Exception {
-                return privateUpdateOpenIdConnectionAsync(request);
+                return privateUpdateOpenIdConnectionAsync(null, request);
             }
         });
         try {
@@ -6597,10 +6491,11 @@ public class PlayFabAdminAPI {
 
     /** Modifies data and credentials for an existing relationship between a title and an Open ID Connect provider */
     @SuppressWarnings("unchecked")
-    private static PlayFabResult<EmptyResponse> privateUpdateOpenIdConnectionAsync(final UpdateOpenIdConnectionRequest request) throws Exception {
-        if (PlayFabSettings.DeveloperSecretKey == null) throw new Exception ("Must have PlayFabSettings.DeveloperSecretKey set to call this method");
+    static PlayFabResult<EmptyResponse> privateUpdateOpenIdConnectionAsync(final PlayFabInstanceAPI instance, final UpdateOpenIdConnectionRequest request) throws Exception {
+        final PlayFabApiContext context = PlayFabInstanceAPI.contextOf(instance);
+        if (context.getDeveloperSecretKey() == null) throw new Exception ("Must have PlayFabSettings.DeveloperSecretKey set to call this method");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Admin/UpdateOpenIdConnection"), request, "X-SecretKey", PlayFabSettings.DeveloperSecretKey);
+        FutureTask<Object> task = PlayFabHTTP.doPost(context.getURL("/Admin/UpdateOpenIdConnection"), request, "X-SecretKey", context.getDeveloperSecretKey(), EmptyResponse.class);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -6611,9 +6506,7 @@ public class PlayFabAdminAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
-
-        PlayFabJsonSuccess<EmptyResponse> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<EmptyResponse>>(){}.getType());
+        PlayFabJsonSuccess<EmptyResponse> resultData = (PlayFabJsonSuccess<EmptyResponse>) httpResult;
         EmptyResponse result = resultData.data;
 
         PlayFabResult<EmptyResponse> pfResult = new PlayFabResult<EmptyResponse>();
@@ -6631,7 +6524,7 @@ public class PlayFabAdminAPI {
     public static FutureTask<PlayFabResult<UpdatePlayerSharedSecretResult>> UpdatePlayerSharedSecretAsync(final UpdatePlayerSharedSecretRequest request) {
         return new FutureTask(new Callable<PlayFabResult<UpdatePlayerSharedSecretResult>>() {
             public PlayFabResult<UpdatePlayerSharedSecretResult> call() throws Exception {
-                return privateUpdatePlayerSharedSecretAsync(request);
+                return privateUpdatePlayerSharedSecretAsync(null, request);
             }
         });
     }
@@ -6646,7 +6539,7 @@ public class PlayFabAdminAPI {
     public static PlayFabResult<UpdatePlayerSharedSecretResult> UpdatePlayerSharedSecret(final UpdatePlayerSharedSecretRequest request) {
         FutureTask<PlayFabResult<UpdatePlayerSharedSecretResult>> task = new FutureTask(new Callable<PlayFabResult<UpdatePlayerSharedSecretResult>>() {
             public PlayFabResult<UpdatePlayerSharedSecretResult> call() throws Exception {
-                return privateUpdatePlayerSharedSecretAsync(request);
+                return privateUpdatePlayerSharedSecretAsync(null, request);
             }
         });
         try {
@@ -6664,10 +6557,11 @@ public class PlayFabAdminAPI {
      * after this API returns.
      */
     @SuppressWarnings("unchecked")
-    private static PlayFabResult<UpdatePlayerSharedSecretResult> privateUpdatePlayerSharedSecretAsync(final UpdatePlayerSharedSecretRequest request) throws Exception {
-        if (PlayFabSettings.DeveloperSecretKey == null) throw new Exception ("Must have PlayFabSettings.DeveloperSecretKey set to call this method");
+    static PlayFabResult<UpdatePlayerSharedSecretResult> privateUpdatePlayerSharedSecretAsync(final PlayFabInstanceAPI instance, final UpdatePlayerSharedSecretRequest request) throws Exception {
+        final PlayFabApiContext context = PlayFabInstanceAPI.contextOf(instance);
+        if (context.getDeveloperSecretKey() == null) throw new Exception ("Must have PlayFabSettings.DeveloperSecretKey set to call this method");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Admin/UpdatePlayerSharedSecret"), request, "X-SecretKey", PlayFabSettings.DeveloperSecretKey);
+        FutureTask<Object> task = PlayFabHTTP.doPost(context.getURL("/Admin/UpdatePlayerSharedSecret"), request, "X-SecretKey", context.getDeveloperSecretKey(), UpdatePlayerSharedSecretResult.class);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -6678,9 +6572,7 @@ public class PlayFabAdminAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
-
-        PlayFabJsonSuccess<UpdatePlayerSharedSecretResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<UpdatePlayerSharedSecretResult>>(){}.getType());
+        PlayFabJsonSuccess<UpdatePlayerSharedSecretResult> resultData = (PlayFabJsonSuccess<UpdatePlayerSharedSecretResult>) httpResult;
         UpdatePlayerSharedSecretResult result = resultData.data;
 
         PlayFabResult<UpdatePlayerSharedSecretResult> pfResult = new PlayFabResult<UpdatePlayerSharedSecretResult>();
@@ -6697,7 +6589,7 @@ public class PlayFabAdminAPI {
     public static FutureTask<PlayFabResult<UpdatePlayerStatisticDefinitionResult>> UpdatePlayerStatisticDefinitionAsync(final UpdatePlayerStatisticDefinitionRequest request) {
         return new FutureTask(new Callable<PlayFabResult<UpdatePlayerStatisticDefinitionResult>>() {
             public PlayFabResult<UpdatePlayerStatisticDefinitionResult> call() throws Exception {
-                return privateUpdatePlayerStatisticDefinitionAsync(request);
+                return privateUpdatePlayerStatisticDefinitionAsync(null, request);
             }
         });
     }
@@ -6711,7 +6603,7 @@ public class PlayFabAdminAPI {
     public static PlayFabResult<UpdatePlayerStatisticDefinitionResult> UpdatePlayerStatisticDefinition(final UpdatePlayerStatisticDefinitionRequest request) {
         FutureTask<PlayFabResult<UpdatePlayerStatisticDefinitionResult>> task = new FutureTask(new Callable<PlayFabResult<UpdatePlayerStatisticDefinitionResult>>() {
             public PlayFabResult<UpdatePlayerStatisticDefinitionResult> call() throws Exception {
-                return privateUpdatePlayerStatisticDefinitionAsync(request);
+                return privateUpdatePlayerStatisticDefinitionAsync(null, request);
             }
         });
         try {
@@ -6726,10 +6618,11 @@ public class PlayFabAdminAPI {
 
     /** Updates a player statistic configuration for the title, optionally allowing the developer to specify a reset interval. */
     @SuppressWarnings("unchecked")
-    private static PlayFabResult<UpdatePlayerStatisticDefinitionResult> privateUpdatePlayerStatisticDefinitionAsync(final UpdatePlayerStatisticDefinitionRequest request) throws Exception {
-        if (PlayFabSettings.DeveloperSecretKey == null) throw new Exception ("Must have PlayFabSettings.DeveloperSecretKey set to call this method");
+    static PlayFabResult<UpdatePlayerStatisticDefinitionResult> privateUpdatePlayerStatisticDefinitionAsync(final PlayFabInstanceAPI instance, final UpdatePlayerStatisticDefinitionRequest request) throws Exception {
+        final PlayFabApiContext context = PlayFabInstanceAPI.contextOf(instance);
+        if (context.getDeveloperSecretKey() == null) throw new Exception ("Must have PlayFabSettings.DeveloperSecretKey set to call this method");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Admin/UpdatePlayerStatisticDefinition"), request, "X-SecretKey", PlayFabSettings.DeveloperSecretKey);
+        FutureTask<Object> task = PlayFabHTTP.doPost(context.getURL("/Admin/UpdatePlayerStatisticDefinition"), request, "X-SecretKey", context.getDeveloperSecretKey(), UpdatePlayerStatisticDefinitionResult.class);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -6740,9 +6633,7 @@ public class PlayFabAdminAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
-
-        PlayFabJsonSuccess<UpdatePlayerStatisticDefinitionResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<UpdatePlayerStatisticDefinitionResult>>(){}.getType());
+        PlayFabJsonSuccess<UpdatePlayerStatisticDefinitionResult> resultData = (PlayFabJsonSuccess<UpdatePlayerStatisticDefinitionResult>) httpResult;
         UpdatePlayerStatisticDefinitionResult result = resultData.data;
 
         PlayFabResult<UpdatePlayerStatisticDefinitionResult> pfResult = new PlayFabResult<UpdatePlayerStatisticDefinitionResult>();
@@ -6759,7 +6650,7 @@ public class PlayFabAdminAPI {
     public static FutureTask<PlayFabResult<UpdatePolicyResponse>> UpdatePolicyAsync(final UpdatePolicyRequest request) {
         return new FutureTask(new Callable<PlayFabResult<UpdatePolicyResponse>>() {
             public PlayFabResult<UpdatePolicyResponse> call() throws Exception {
-                return privateUpdatePolicyAsync(request);
+                return privateUpdatePolicyAsync(null, request);
             }
         });
     }
@@ -6773,7 +6664,7 @@ public class PlayFabAdminAPI {
     public static PlayFabResult<UpdatePolicyResponse> UpdatePolicy(final UpdatePolicyRequest request) {
         FutureTask<PlayFabResult<UpdatePolicyResponse>> task = new FutureTask(new Callable<PlayFabResult<UpdatePolicyResponse>>() {
             public PlayFabResult<UpdatePolicyResponse> call() throws Exception {
-                return privateUpdatePolicyAsync(request);
+                return privateUpdatePolicyAsync(null, request);
             }
         });
         try {
@@ -6788,10 +6679,11 @@ public class PlayFabAdminAPI {
 
     /** Changes a policy for a title */
     @SuppressWarnings("unchecked")
-    private static PlayFabResult<UpdatePolicyResponse> privateUpdatePolicyAsync(final UpdatePolicyRequest request) throws Exception {
-        if (PlayFabSettings.DeveloperSecretKey == null) throw new Exception ("Must have PlayFabSettings.DeveloperSecretKey set to call this method");
+    static PlayFabResult<UpdatePolicyResponse> privateUpdatePolicyAsync(final PlayFabInstanceAPI instance, final UpdatePolicyRequest request) throws Exception {
+        final PlayFabApiContext context = PlayFabInstanceAPI.contextOf(instance);
+        if (context.getDeveloperSecretKey() == null) throw new Exception ("Must have PlayFabSettings.DeveloperSecretKey set to call this method");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Admin/UpdatePolicy"), request, "X-SecretKey", PlayFabSettings.DeveloperSecretKey);
+        FutureTask<Object> task = PlayFabHTTP.doPost(context.getURL("/Admin/UpdatePolicy"), request, "X-SecretKey", context.getDeveloperSecretKey(), UpdatePolicyResponse.class);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -6802,9 +6694,7 @@ public class PlayFabAdminAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
-
-        PlayFabJsonSuccess<UpdatePolicyResponse> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<UpdatePolicyResponse>>(){}.getType());
+        PlayFabJsonSuccess<UpdatePolicyResponse> resultData = (PlayFabJsonSuccess<UpdatePolicyResponse>) httpResult;
         UpdatePolicyResponse result = resultData.data;
 
         PlayFabResult<UpdatePolicyResponse> pfResult = new PlayFabResult<UpdatePolicyResponse>();
@@ -6821,7 +6711,7 @@ public class PlayFabAdminAPI {
     public static FutureTask<PlayFabResult<UpdateRandomResultTablesResult>> UpdateRandomResultTablesAsync(final UpdateRandomResultTablesRequest request) {
         return new FutureTask(new Callable<PlayFabResult<UpdateRandomResultTablesResult>>() {
             public PlayFabResult<UpdateRandomResultTablesResult> call() throws Exception {
-                return privateUpdateRandomResultTablesAsync(request);
+                return privateUpdateRandomResultTablesAsync(null, request);
             }
         });
     }
@@ -6835,7 +6725,7 @@ public class PlayFabAdminAPI {
     public static PlayFabResult<UpdateRandomResultTablesResult> UpdateRandomResultTables(final UpdateRandomResultTablesRequest request) {
         FutureTask<PlayFabResult<UpdateRandomResultTablesResult>> task = new FutureTask(new Callable<PlayFabResult<UpdateRandomResultTablesResult>>() {
             public PlayFabResult<UpdateRandomResultTablesResult> call() throws Exception {
-                return privateUpdateRandomResultTablesAsync(request);
+                return privateUpdateRandomResultTablesAsync(null, request);
             }
         });
         try {
@@ -6850,10 +6740,11 @@ public class PlayFabAdminAPI {
 
     /** Updates the random drop table configuration for the title */
     @SuppressWarnings("unchecked")
-    private static PlayFabResult<UpdateRandomResultTablesResult> privateUpdateRandomResultTablesAsync(final UpdateRandomResultTablesRequest request) throws Exception {
-        if (PlayFabSettings.DeveloperSecretKey == null) throw new Exception ("Must have PlayFabSettings.DeveloperSecretKey set to call this method");
+    static PlayFabResult<UpdateRandomResultTablesResult> privateUpdateRandomResultTablesAsync(final PlayFabInstanceAPI instance, final UpdateRandomResultTablesRequest request) throws Exception {
+        final PlayFabApiContext context = PlayFabInstanceAPI.contextOf(instance);
+        if (context.getDeveloperSecretKey() == null) throw new Exception ("Must have PlayFabSettings.DeveloperSecretKey set to call this method");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Admin/UpdateRandomResultTables"), request, "X-SecretKey", PlayFabSettings.DeveloperSecretKey);
+        FutureTask<Object> task = PlayFabHTTP.doPost(context.getURL("/Admin/UpdateRandomResultTables"), request, "X-SecretKey", context.getDeveloperSecretKey(), UpdateRandomResultTablesResult.class);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -6864,9 +6755,7 @@ public class PlayFabAdminAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
-
-        PlayFabJsonSuccess<UpdateRandomResultTablesResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<UpdateRandomResultTablesResult>>(){}.getType());
+        PlayFabJsonSuccess<UpdateRandomResultTablesResult> resultData = (PlayFabJsonSuccess<UpdateRandomResultTablesResult>) httpResult;
         UpdateRandomResultTablesResult result = resultData.data;
 
         PlayFabResult<UpdateRandomResultTablesResult> pfResult = new PlayFabResult<UpdateRandomResultTablesResult>();
@@ -6883,7 +6772,7 @@ public class PlayFabAdminAPI {
     public static FutureTask<PlayFabResult<UpdateSegmentResponse>> UpdateSegmentAsync(final UpdateSegmentRequest request) {
         return new FutureTask(new Callable<PlayFabResult<UpdateSegmentResponse>>() {
             public PlayFabResult<UpdateSegmentResponse> call() throws Exception {
-                return privateUpdateSegmentAsync(request);
+                return privateUpdateSegmentAsync(null, request);
             }
         });
     }
@@ -6897,7 +6786,7 @@ public class PlayFabAdminAPI {
     public static PlayFabResult<UpdateSegmentResponse> UpdateSegment(final UpdateSegmentRequest request) {
         FutureTask<PlayFabResult<UpdateSegmentResponse>> task = new FutureTask(new Callable<PlayFabResult<UpdateSegmentResponse>>() {
             public PlayFabResult<UpdateSegmentResponse> call() throws Exception {
-                return privateUpdateSegmentAsync(request);
+                return privateUpdateSegmentAsync(null, request);
             }
         });
         try {
@@ -6912,10 +6801,11 @@ public class PlayFabAdminAPI {
 
     /** Updates an existing player segment and its associated definition(s) and action(s) for a title. */
     @SuppressWarnings("unchecked")
-    private static PlayFabResult<UpdateSegmentResponse> privateUpdateSegmentAsync(final UpdateSegmentRequest request) throws Exception {
-        if (PlayFabSettings.DeveloperSecretKey == null) throw new Exception ("Must have PlayFabSettings.DeveloperSecretKey set to call this method");
+    static PlayFabResult<UpdateSegmentResponse> privateUpdateSegmentAsync(final PlayFabInstanceAPI instance, final UpdateSegmentRequest request) throws Exception {
+        final PlayFabApiContext context = PlayFabInstanceAPI.contextOf(instance);
+        if (context.getDeveloperSecretKey() == null) throw new Exception ("Must have PlayFabSettings.DeveloperSecretKey set to call this method");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Admin/UpdateSegment"), request, "X-SecretKey", PlayFabSettings.DeveloperSecretKey);
+        FutureTask<Object> task = PlayFabHTTP.doPost(context.getURL("/Admin/UpdateSegment"), request, "X-SecretKey", context.getDeveloperSecretKey(), UpdateSegmentResponse.class);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -6926,9 +6816,7 @@ public class PlayFabAdminAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
-
-        PlayFabJsonSuccess<UpdateSegmentResponse> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<UpdateSegmentResponse>>(){}.getType());
+        PlayFabJsonSuccess<UpdateSegmentResponse> resultData = (PlayFabJsonSuccess<UpdateSegmentResponse>) httpResult;
         UpdateSegmentResponse result = resultData.data;
 
         PlayFabResult<UpdateSegmentResponse> pfResult = new PlayFabResult<UpdateSegmentResponse>();
@@ -6945,7 +6833,7 @@ public class PlayFabAdminAPI {
     public static FutureTask<PlayFabResult<UpdateStoreItemsResult>> UpdateStoreItemsAsync(final UpdateStoreItemsRequest request) {
         return new FutureTask(new Callable<PlayFabResult<UpdateStoreItemsResult>>() {
             public PlayFabResult<UpdateStoreItemsResult> call() throws Exception {
-                return privateUpdateStoreItemsAsync(request);
+                return privateUpdateStoreItemsAsync(null, request);
             }
         });
     }
@@ -6959,7 +6847,7 @@ public class PlayFabAdminAPI {
     public static PlayFabResult<UpdateStoreItemsResult> UpdateStoreItems(final UpdateStoreItemsRequest request) {
         FutureTask<PlayFabResult<UpdateStoreItemsResult>> task = new FutureTask(new Callable<PlayFabResult<UpdateStoreItemsResult>>() {
             public PlayFabResult<UpdateStoreItemsResult> call() throws Exception {
-                return privateUpdateStoreItemsAsync(request);
+                return privateUpdateStoreItemsAsync(null, request);
             }
         });
         try {
@@ -6974,10 +6862,11 @@ public class PlayFabAdminAPI {
 
     /** Updates an existing virtual item store with new or modified items */
     @SuppressWarnings("unchecked")
-    private static PlayFabResult<UpdateStoreItemsResult> privateUpdateStoreItemsAsync(final UpdateStoreItemsRequest request) throws Exception {
-        if (PlayFabSettings.DeveloperSecretKey == null) throw new Exception ("Must have PlayFabSettings.DeveloperSecretKey set to call this method");
+    static PlayFabResult<UpdateStoreItemsResult> privateUpdateStoreItemsAsync(final PlayFabInstanceAPI instance, final UpdateStoreItemsRequest request) throws Exception {
+        final PlayFabApiContext context = PlayFabInstanceAPI.contextOf(instance);
+        if (context.getDeveloperSecretKey() == null) throw new Exception ("Must have PlayFabSettings.DeveloperSecretKey set to call this method");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Admin/UpdateStoreItems"), request, "X-SecretKey", PlayFabSettings.DeveloperSecretKey);
+        FutureTask<Object> task = PlayFabHTTP.doPost(context.getURL("/Admin/UpdateStoreItems"), request, "X-SecretKey", context.getDeveloperSecretKey(), UpdateStoreItemsResult.class);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -6988,9 +6877,7 @@ public class PlayFabAdminAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
-
-        PlayFabJsonSuccess<UpdateStoreItemsResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<UpdateStoreItemsResult>>(){}.getType());
+        PlayFabJsonSuccess<UpdateStoreItemsResult> resultData = (PlayFabJsonSuccess<UpdateStoreItemsResult>) httpResult;
         UpdateStoreItemsResult result = resultData.data;
 
         PlayFabResult<UpdateStoreItemsResult> pfResult = new PlayFabResult<UpdateStoreItemsResult>();
@@ -7007,7 +6894,7 @@ public class PlayFabAdminAPI {
     public static FutureTask<PlayFabResult<EmptyResponse>> UpdateTaskAsync(final UpdateTaskRequest request) {
         return new FutureTask(new Callable<PlayFabResult<EmptyResponse>>() {
             public PlayFabResult<EmptyResponse> call() throws Exception {
-                return privateUpdateTaskAsync(request);
+                return privateUpdateTaskAsync(null, request);
             }
         });
     }
@@ -7021,7 +6908,7 @@ public class PlayFabAdminAPI {
     public static PlayFabResult<EmptyResponse> UpdateTask(final UpdateTaskRequest request) {
         FutureTask<PlayFabResult<EmptyResponse>> task = new FutureTask(new Callable<PlayFabResult<EmptyResponse>>() {
             public PlayFabResult<EmptyResponse> call() throws Exception {
-                return privateUpdateTaskAsync(request);
+                return privateUpdateTaskAsync(null, request);
             }
         });
         try {
@@ -7036,10 +6923,11 @@ public class PlayFabAdminAPI {
 
     /** Update an existing task. */
     @SuppressWarnings("unchecked")
-    private static PlayFabResult<EmptyResponse> privateUpdateTaskAsync(final UpdateTaskRequest request) throws Exception {
-        if (PlayFabSettings.DeveloperSecretKey == null) throw new Exception ("Must have PlayFabSettings.DeveloperSecretKey set to call this method");
+    static PlayFabResult<EmptyResponse> privateUpdateTaskAsync(final PlayFabInstanceAPI instance, final UpdateTaskRequest request) throws Exception {
+        final PlayFabApiContext context = PlayFabInstanceAPI.contextOf(instance);
+        if (context.getDeveloperSecretKey() == null) throw new Exception ("Must have PlayFabSettings.DeveloperSecretKey set to call this method");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Admin/UpdateTask"), request, "X-SecretKey", PlayFabSettings.DeveloperSecretKey);
+        FutureTask<Object> task = PlayFabHTTP.doPost(context.getURL("/Admin/UpdateTask"), request, "X-SecretKey", context.getDeveloperSecretKey(), EmptyResponse.class);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -7050,9 +6938,7 @@ public class PlayFabAdminAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
-
-        PlayFabJsonSuccess<EmptyResponse> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<EmptyResponse>>(){}.getType());
+        PlayFabJsonSuccess<EmptyResponse> resultData = (PlayFabJsonSuccess<EmptyResponse>) httpResult;
         EmptyResponse result = resultData.data;
 
         PlayFabResult<EmptyResponse> pfResult = new PlayFabResult<EmptyResponse>();
@@ -7069,7 +6955,7 @@ public class PlayFabAdminAPI {
     public static FutureTask<PlayFabResult<UpdateUserDataResult>> UpdateUserDataAsync(final UpdateUserDataRequest request) {
         return new FutureTask(new Callable<PlayFabResult<UpdateUserDataResult>>() {
             public PlayFabResult<UpdateUserDataResult> call() throws Exception {
-                return privateUpdateUserDataAsync(request);
+                return privateUpdateUserDataAsync(null, request);
             }
         });
     }
@@ -7083,7 +6969,7 @@ public class PlayFabAdminAPI {
     public static PlayFabResult<UpdateUserDataResult> UpdateUserData(final UpdateUserDataRequest request) {
         FutureTask<PlayFabResult<UpdateUserDataResult>> task = new FutureTask(new Callable<PlayFabResult<UpdateUserDataResult>>() {
             public PlayFabResult<UpdateUserDataResult> call() throws Exception {
-                return privateUpdateUserDataAsync(request);
+                return privateUpdateUserDataAsync(null, request);
             }
         });
         try {
@@ -7098,10 +6984,11 @@ public class PlayFabAdminAPI {
 
     /** Updates the title-specific custom data for the user which is readable and writable by the client */
     @SuppressWarnings("unchecked")
-    private static PlayFabResult<UpdateUserDataResult> privateUpdateUserDataAsync(final UpdateUserDataRequest request) throws Exception {
-        if (PlayFabSettings.DeveloperSecretKey == null) throw new Exception ("Must have PlayFabSettings.DeveloperSecretKey set to call this method");
+    static PlayFabResult<UpdateUserDataResult> privateUpdateUserDataAsync(final PlayFabInstanceAPI instance, final UpdateUserDataRequest request) throws Exception {
+        final PlayFabApiContext context = PlayFabInstanceAPI.contextOf(instance);
+        if (context.getDeveloperSecretKey() == null) throw new Exception ("Must have PlayFabSettings.DeveloperSecretKey set to call this method");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Admin/UpdateUserData"), request, "X-SecretKey", PlayFabSettings.DeveloperSecretKey);
+        FutureTask<Object> task = PlayFabHTTP.doPost(context.getURL("/Admin/UpdateUserData"), request, "X-SecretKey", context.getDeveloperSecretKey(), UpdateUserDataResult.class);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -7112,9 +6999,7 @@ public class PlayFabAdminAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
-
-        PlayFabJsonSuccess<UpdateUserDataResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<UpdateUserDataResult>>(){}.getType());
+        PlayFabJsonSuccess<UpdateUserDataResult> resultData = (PlayFabJsonSuccess<UpdateUserDataResult>) httpResult;
         UpdateUserDataResult result = resultData.data;
 
         PlayFabResult<UpdateUserDataResult> pfResult = new PlayFabResult<UpdateUserDataResult>();
@@ -7131,7 +7016,7 @@ public class PlayFabAdminAPI {
     public static FutureTask<PlayFabResult<UpdateUserDataResult>> UpdateUserInternalDataAsync(final UpdateUserInternalDataRequest request) {
         return new FutureTask(new Callable<PlayFabResult<UpdateUserDataResult>>() {
             public PlayFabResult<UpdateUserDataResult> call() throws Exception {
-                return privateUpdateUserInternalDataAsync(request);
+                return privateUpdateUserInternalDataAsync(null, request);
             }
         });
     }
@@ -7145,7 +7030,7 @@ public class PlayFabAdminAPI {
     public static PlayFabResult<UpdateUserDataResult> UpdateUserInternalData(final UpdateUserInternalDataRequest request) {
         FutureTask<PlayFabResult<UpdateUserDataResult>> task = new FutureTask(new Callable<PlayFabResult<UpdateUserDataResult>>() {
             public PlayFabResult<UpdateUserDataResult> call() throws Exception {
-                return privateUpdateUserInternalDataAsync(request);
+                return privateUpdateUserInternalDataAsync(null, request);
             }
         });
         try {
@@ -7160,10 +7045,11 @@ public class PlayFabAdminAPI {
 
     /** Updates the title-specific custom data for the user which cannot be accessed by the client */
     @SuppressWarnings("unchecked")
-    private static PlayFabResult<UpdateUserDataResult> privateUpdateUserInternalDataAsync(final UpdateUserInternalDataRequest request) throws Exception {
-        if (PlayFabSettings.DeveloperSecretKey == null) throw new Exception ("Must have PlayFabSettings.DeveloperSecretKey set to call this method");
+    static PlayFabResult<UpdateUserDataResult> privateUpdateUserInternalDataAsync(final PlayFabInstanceAPI instance, final UpdateUserInternalDataRequest request) throws Exception {
+        final PlayFabApiContext context = PlayFabInstanceAPI.contextOf(instance);
+        if (context.getDeveloperSecretKey() == null) throw new Exception ("Must have PlayFabSettings.DeveloperSecretKey set to call this method");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Admin/UpdateUserInternalData"), request, "X-SecretKey", PlayFabSettings.DeveloperSecretKey);
+        FutureTask<Object> task = PlayFabHTTP.doPost(context.getURL("/Admin/UpdateUserInternalData"), request, "X-SecretKey", context.getDeveloperSecretKey(), UpdateUserDataResult.class);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -7174,9 +7060,7 @@ public class PlayFabAdminAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
-
-        PlayFabJsonSuccess<UpdateUserDataResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<UpdateUserDataResult>>(){}.getType());
+        PlayFabJsonSuccess<UpdateUserDataResult> resultData = (PlayFabJsonSuccess<UpdateUserDataResult>) httpResult;
         UpdateUserDataResult result = resultData.data;
 
         PlayFabResult<UpdateUserDataResult> pfResult = new PlayFabResult<UpdateUserDataResult>();
@@ -7193,7 +7077,7 @@ public class PlayFabAdminAPI {
     public static FutureTask<PlayFabResult<UpdateUserDataResult>> UpdateUserPublisherDataAsync(final UpdateUserDataRequest request) {
         return new FutureTask(new Callable<PlayFabResult<UpdateUserDataResult>>() {
             public PlayFabResult<UpdateUserDataResult> call() throws Exception {
-                return privateUpdateUserPublisherDataAsync(request);
+                return privateUpdateUserPublisherDataAsync(null, request);
             }
         });
     }
@@ -7207,7 +7091,7 @@ public class PlayFabAdminAPI {
     public static PlayFabResult<UpdateUserDataResult> UpdateUserPublisherData(final UpdateUserDataRequest request) {
         FutureTask<PlayFabResult<UpdateUserDataResult>> task = new FutureTask(new Callable<PlayFabResult<UpdateUserDataResult>>() {
             public PlayFabResult<UpdateUserDataResult> call() throws Exception {
-                return privateUpdateUserPublisherDataAsync(request);
+                return privateUpdateUserPublisherDataAsync(null, request);
             }
         });
         try {
@@ -7222,10 +7106,11 @@ public class PlayFabAdminAPI {
 
     /** Updates the publisher-specific custom data for the user which is readable and writable by the client */
     @SuppressWarnings("unchecked")
-    private static PlayFabResult<UpdateUserDataResult> privateUpdateUserPublisherDataAsync(final UpdateUserDataRequest request) throws Exception {
-        if (PlayFabSettings.DeveloperSecretKey == null) throw new Exception ("Must have PlayFabSettings.DeveloperSecretKey set to call this method");
+    static PlayFabResult<UpdateUserDataResult> privateUpdateUserPublisherDataAsync(final PlayFabInstanceAPI instance, final UpdateUserDataRequest request) throws Exception {
+        final PlayFabApiContext context = PlayFabInstanceAPI.contextOf(instance);
+        if (context.getDeveloperSecretKey() == null) throw new Exception ("Must have PlayFabSettings.DeveloperSecretKey set to call this method");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Admin/UpdateUserPublisherData"), request, "X-SecretKey", PlayFabSettings.DeveloperSecretKey);
+        FutureTask<Object> task = PlayFabHTTP.doPost(context.getURL("/Admin/UpdateUserPublisherData"), request, "X-SecretKey", context.getDeveloperSecretKey(), UpdateUserDataResult.class);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -7236,9 +7121,7 @@ public class PlayFabAdminAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
-
-        PlayFabJsonSuccess<UpdateUserDataResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<UpdateUserDataResult>>(){}.getType());
+        PlayFabJsonSuccess<UpdateUserDataResult> resultData = (PlayFabJsonSuccess<UpdateUserDataResult>) httpResult;
         UpdateUserDataResult result = resultData.data;
 
         PlayFabResult<UpdateUserDataResult> pfResult = new PlayFabResult<UpdateUserDataResult>();
@@ -7255,7 +7138,7 @@ public class PlayFabAdminAPI {
     public static FutureTask<PlayFabResult<UpdateUserDataResult>> UpdateUserPublisherInternalDataAsync(final UpdateUserInternalDataRequest request) {
         return new FutureTask(new Callable<PlayFabResult<UpdateUserDataResult>>() {
             public PlayFabResult<UpdateUserDataResult> call() throws Exception {
-                return privateUpdateUserPublisherInternalDataAsync(request);
+                return privateUpdateUserPublisherInternalDataAsync(null, request);
             }
         });
     }
@@ -7269,7 +7152,7 @@ public class PlayFabAdminAPI {
     public static PlayFabResult<UpdateUserDataResult> UpdateUserPublisherInternalData(final UpdateUserInternalDataRequest request) {
         FutureTask<PlayFabResult<UpdateUserDataResult>> task = new FutureTask(new Callable<PlayFabResult<UpdateUserDataResult>>() {
             public PlayFabResult<UpdateUserDataResult> call() throws Exception {
-                return privateUpdateUserPublisherInternalDataAsync(request);
+                return privateUpdateUserPublisherInternalDataAsync(null, request);
             }
         });
         try {
@@ -7284,10 +7167,11 @@ public class PlayFabAdminAPI {
 
     /** Updates the publisher-specific custom data for the user which cannot be accessed by the client */
     @SuppressWarnings("unchecked")
-    private static PlayFabResult<UpdateUserDataResult> privateUpdateUserPublisherInternalDataAsync(final UpdateUserInternalDataRequest request) throws Exception {
-        if (PlayFabSettings.DeveloperSecretKey == null) throw new Exception ("Must have PlayFabSettings.DeveloperSecretKey set to call this method");
+    static PlayFabResult<UpdateUserDataResult> privateUpdateUserPublisherInternalDataAsync(final PlayFabInstanceAPI instance, final UpdateUserInternalDataRequest request) throws Exception {
+        final PlayFabApiContext context = PlayFabInstanceAPI.contextOf(instance);
+        if (context.getDeveloperSecretKey() == null) throw new Exception ("Must have PlayFabSettings.DeveloperSecretKey set to call this method");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Admin/UpdateUserPublisherInternalData"), request, "X-SecretKey", PlayFabSettings.DeveloperSecretKey);
+        FutureTask<Object> task = PlayFabHTTP.doPost(context.getURL("/Admin/UpdateUserPublisherInternalData"), request, "X-SecretKey", context.getDeveloperSecretKey(), UpdateUserDataResult.class);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -7298,9 +7182,7 @@ public class PlayFabAdminAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
-
-        PlayFabJsonSuccess<UpdateUserDataResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<UpdateUserDataResult>>(){}.getType());
+        PlayFabJsonSuccess<UpdateUserDataResult> resultData = (PlayFabJsonSuccess<UpdateUserDataResult>) httpResult;
         UpdateUserDataResult result = resultData.data;
 
         PlayFabResult<UpdateUserDataResult> pfResult = new PlayFabResult<UpdateUserDataResult>();
@@ -7317,7 +7199,7 @@ public class PlayFabAdminAPI {
     public static FutureTask<PlayFabResult<UpdateUserDataResult>> UpdateUserPublisherReadOnlyDataAsync(final UpdateUserDataRequest request) {
         return new FutureTask(new Callable<PlayFabResult<UpdateUserDataResult>>() {
             public PlayFabResult<UpdateUserDataResult> call() throws Exception {
-                return privateUpdateUserPublisherReadOnlyDataAsync(request);
+                return privateUpdateUserPublisherReadOnlyDataAsync(null, request);
             }
         });
     }
@@ -7331,7 +7213,7 @@ public class PlayFabAdminAPI {
     public static PlayFabResult<UpdateUserDataResult> UpdateUserPublisherReadOnlyData(final UpdateUserDataRequest request) {
         FutureTask<PlayFabResult<UpdateUserDataResult>> task = new FutureTask(new Callable<PlayFabResult<UpdateUserDataResult>>() {
             public PlayFabResult<UpdateUserDataResult> call() throws Exception {
-                return privateUpdateUserPublisherReadOnlyDataAsync(request);
+                return privateUpdateUserPublisherReadOnlyDataAsync(null, request);
             }
         });
         try {
@@ -7346,10 +7228,11 @@ public class PlayFabAdminAPI {
 
     /** Updates the publisher-specific custom data for the user which can only be read by the client */
     @SuppressWarnings("unchecked")
-    private static PlayFabResult<UpdateUserDataResult> privateUpdateUserPublisherReadOnlyDataAsync(final UpdateUserDataRequest request) throws Exception {
-        if (PlayFabSettings.DeveloperSecretKey == null) throw new Exception ("Must have PlayFabSettings.DeveloperSecretKey set to call this method");
+    static PlayFabResult<UpdateUserDataResult> privateUpdateUserPublisherReadOnlyDataAsync(final PlayFabInstanceAPI instance, final UpdateUserDataRequest request) throws Exception {
+        final PlayFabApiContext context = PlayFabInstanceAPI.contextOf(instance);
+        if (context.getDeveloperSecretKey() == null) throw new Exception ("Must have PlayFabSettings.DeveloperSecretKey set to call this method");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Admin/UpdateUserPublisherReadOnlyData"), request, "X-SecretKey", PlayFabSettings.DeveloperSecretKey);
+        FutureTask<Object> task = PlayFabHTTP.doPost(context.getURL("/Admin/UpdateUserPublisherReadOnlyData"), request, "X-SecretKey", context.getDeveloperSecretKey(), UpdateUserDataResult.class);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -7360,9 +7243,7 @@ public class PlayFabAdminAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
-
-        PlayFabJsonSuccess<UpdateUserDataResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<UpdateUserDataResult>>(){}.getType());
+        PlayFabJsonSuccess<UpdateUserDataResult> resultData = (PlayFabJsonSuccess<UpdateUserDataResult>) httpResult;
         UpdateUserDataResult result = resultData.data;
 
         PlayFabResult<UpdateUserDataResult> pfResult = new PlayFabResult<UpdateUserDataResult>();
@@ -7379,7 +7260,7 @@ public class PlayFabAdminAPI {
     public static FutureTask<PlayFabResult<UpdateUserDataResult>> UpdateUserReadOnlyDataAsync(final UpdateUserDataRequest request) {
         return new FutureTask(new Callable<PlayFabResult<UpdateUserDataResult>>() {
             public PlayFabResult<UpdateUserDataResult> call() throws Exception {
-                return privateUpdateUserReadOnlyDataAsync(request);
+                return privateUpdateUserReadOnlyDataAsync(null, request);
             }
         });
     }
@@ -7393,7 +7274,7 @@ public class PlayFabAdminAPI {
     public static PlayFabResult<UpdateUserDataResult> UpdateUserReadOnlyData(final UpdateUserDataRequest request) {
         FutureTask<PlayFabResult<UpdateUserDataResult>> task = new FutureTask(new Callable<PlayFabResult<UpdateUserDataResult>>() {
             public PlayFabResult<UpdateUserDataResult> call() throws Exception {
-                return privateUpdateUserReadOnlyDataAsync(request);
+                return privateUpdateUserReadOnlyDataAsync(null, request);
             }
         });
         try {
@@ -7408,10 +7289,11 @@ public class PlayFabAdminAPI {
 
     /** Updates the title-specific custom data for the user which can only be read by the client */
     @SuppressWarnings("unchecked")
-    private static PlayFabResult<UpdateUserDataResult> privateUpdateUserReadOnlyDataAsync(final UpdateUserDataRequest request) throws Exception {
-        if (PlayFabSettings.DeveloperSecretKey == null) throw new Exception ("Must have PlayFabSettings.DeveloperSecretKey set to call this method");
+    static PlayFabResult<UpdateUserDataResult> privateUpdateUserReadOnlyDataAsync(final PlayFabInstanceAPI instance, final UpdateUserDataRequest request) throws Exception {
+        final PlayFabApiContext context = PlayFabInstanceAPI.contextOf(instance);
+        if (context.getDeveloperSecretKey() == null) throw new Exception ("Must have PlayFabSettings.DeveloperSecretKey set to call this method");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Admin/UpdateUserReadOnlyData"), request, "X-SecretKey", PlayFabSettings.DeveloperSecretKey);
+        FutureTask<Object> task = PlayFabHTTP.doPost(context.getURL("/Admin/UpdateUserReadOnlyData"), request, "X-SecretKey", context.getDeveloperSecretKey(), UpdateUserDataResult.class);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -7422,9 +7304,7 @@ public class PlayFabAdminAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
-
-        PlayFabJsonSuccess<UpdateUserDataResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<UpdateUserDataResult>>(){}.getType());
+        PlayFabJsonSuccess<UpdateUserDataResult> resultData = (PlayFabJsonSuccess<UpdateUserDataResult>) httpResult;
         UpdateUserDataResult result = resultData.data;
 
         PlayFabResult<UpdateUserDataResult> pfResult = new PlayFabResult<UpdateUserDataResult>();
@@ -7441,7 +7321,7 @@ public class PlayFabAdminAPI {
     public static FutureTask<PlayFabResult<UpdateUserTitleDisplayNameResult>> UpdateUserTitleDisplayNameAsync(final UpdateUserTitleDisplayNameRequest request) {
         return new FutureTask(new Callable<PlayFabResult<UpdateUserTitleDisplayNameResult>>() {
             public PlayFabResult<UpdateUserTitleDisplayNameResult> call() throws Exception {
-                return privateUpdateUserTitleDisplayNameAsync(request);
+                return privateUpdateUserTitleDisplayNameAsync(null, request);
             }
         });
     }
@@ -7455,7 +7335,7 @@ public class PlayFabAdminAPI {
     public static PlayFabResult<UpdateUserTitleDisplayNameResult> UpdateUserTitleDisplayName(final UpdateUserTitleDisplayNameRequest request) {
         FutureTask<PlayFabResult<UpdateUserTitleDisplayNameResult>> task = new FutureTask(new Callable<PlayFabResult<UpdateUserTitleDisplayNameResult>>() {
             public PlayFabResult<UpdateUserTitleDisplayNameResult> call() throws Exception {
-                return privateUpdateUserTitleDisplayNameAsync(request);
+                return privateUpdateUserTitleDisplayNameAsync(null, request);
             }
         });
         try {
@@ -7470,10 +7350,11 @@ public class PlayFabAdminAPI {
 
     /** Updates the title specific display name for a user */
     @SuppressWarnings("unchecked")
-    private static PlayFabResult<UpdateUserTitleDisplayNameResult> privateUpdateUserTitleDisplayNameAsync(final UpdateUserTitleDisplayNameRequest request) throws Exception {
-        if (PlayFabSettings.DeveloperSecretKey == null) throw new Exception ("Must have PlayFabSettings.DeveloperSecretKey set to call this method");
+    static PlayFabResult<UpdateUserTitleDisplayNameResult> privateUpdateUserTitleDisplayNameAsync(final PlayFabInstanceAPI instance, final UpdateUserTitleDisplayNameRequest request) throws Exception {
+        final PlayFabApiContext context = PlayFabInstanceAPI.contextOf(instance);
+        if (context.getDeveloperSecretKey() == null) throw new Exception ("Must have PlayFabSettings.DeveloperSecretKey set to call this method");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Admin/UpdateUserTitleDisplayName"), request, "X-SecretKey", PlayFabSettings.DeveloperSecretKey);
+        FutureTask<Object> task = PlayFabHTTP.doPost(context.getURL("/Admin/UpdateUserTitleDisplayName"), request, "X-SecretKey", context.getDeveloperSecretKey(), UpdateUserTitleDisplayNameResult.class);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -7484,9 +7365,7 @@ public class PlayFabAdminAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
-
-        PlayFabJsonSuccess<UpdateUserTitleDisplayNameResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<UpdateUserTitleDisplayNameResult>>(){}.getType());
+        PlayFabJsonSuccess<UpdateUserTitleDisplayNameResult> resultData = (PlayFabJsonSuccess<UpdateUserTitleDisplayNameResult>) httpResult;
         UpdateUserTitleDisplayNameResult result = resultData.data;
 
         PlayFabResult<UpdateUserTitleDisplayNameResult> pfResult = new PlayFabResult<UpdateUserTitleDisplayNameResult>();
@@ -7494,4 +7373,1588 @@ public class PlayFabAdminAPI {
         return pfResult;
     }
 
+    /**
+     * @return Non-blocking versions of every PlayFabAdminAPI call, started on PlayFabSettings.AsyncExecutor
+     */
+    public static Async async() {
+        return async;
+    }
+
+    /**
+     * Non-blocking versions of the PlayFabAdminAPI calls. Each call is already running when its PlayFabFuture is returned.
+     */
+    public static class Async {
+        private Async() {
+        }
+
+        /**
+         * Abort an ongoing task instance.
+         * @param request AbortTaskInstanceRequest
+         * @return Running future that will complete with EmptyResponse
+         */
+        public PlayFabFuture<PlayFabResult<EmptyResponse>> AbortTaskInstance(final AbortTaskInstanceRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<EmptyResponse>>() {
+                public PlayFabResult<EmptyResponse> call() throws Exception {
+                    return privateAbortTaskInstanceAsync(null, request);
+                }
+            });
+        }
+
+        /**
+         * Update news item to include localized version
+         * @param request AddLocalizedNewsRequest
+         * @return Running future that will complete with AddLocalizedNewsResult
+         */
+        public PlayFabFuture<PlayFabResult<AddLocalizedNewsResult>> AddLocalizedNews(final AddLocalizedNewsRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<AddLocalizedNewsResult>>() {
+                public PlayFabResult<AddLocalizedNewsResult> call() throws Exception {
+                    return privateAddLocalizedNewsAsync(null, request);
+                }
+            });
+        }
+
+        /**
+         * Adds a new news item to the title's news feed
+         * @param request AddNewsRequest
+         * @return Running future that will complete with AddNewsResult
+         */
+        public PlayFabFuture<PlayFabResult<AddNewsResult>> AddNews(final AddNewsRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<AddNewsResult>>() {
+                public PlayFabResult<AddNewsResult> call() throws Exception {
+                    return privateAddNewsAsync(null, request);
+                }
+            });
+        }
+
+        /**
+         * Adds a given tag to a player profile. The tag's namespace is automatically generated based on the source of the tag.
+         * @param request AddPlayerTagRequest
+         * @return Running future that will complete with AddPlayerTagResult
+         */
+        public PlayFabFuture<PlayFabResult<AddPlayerTagResult>> AddPlayerTag(final AddPlayerTagRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<AddPlayerTagResult>>() {
+                public PlayFabResult<AddPlayerTagResult> call() throws Exception {
+                    return privateAddPlayerTagAsync(null, request);
+                }
+            });
+        }
+
+        /**
+         * Adds the game server executable specified (previously uploaded - see GetServerBuildUploadUrl) to the set of those a
+         * client is permitted to request in a call to StartGame
+         * @param request AddServerBuildRequest
+         * @return Running future that will complete with AddServerBuildResult
+         */
+        public PlayFabFuture<PlayFabResult<AddServerBuildResult>> AddServerBuild(final AddServerBuildRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<AddServerBuildResult>>() {
+                public PlayFabResult<AddServerBuildResult> call() throws Exception {
+                    return privateAddServerBuildAsync(null, request);
+                }
+            });
+        }
+
+        /**
+         * Increments the specified virtual currency by the stated amount
+         * @param request AddUserVirtualCurrencyRequest
+         * @return Running future that will complete with ModifyUserVirtualCurrencyResult
+         */
+        public PlayFabFuture<PlayFabResult<ModifyUserVirtualCurrencyResult>> AddUserVirtualCurrency(final AddUserVirtualCurrencyRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<ModifyUserVirtualCurrencyResult>>() {
+                public PlayFabResult<ModifyUserVirtualCurrencyResult> call() throws Exception {
+                    return privateAddUserVirtualCurrencyAsync(null, request);
+                }
+            });
+        }
+
+        /**
+         * Adds one or more virtual currencies to the set defined for the title. Virtual Currencies have a maximum value of
+         * 2,147,483,647 when granted to a player. Any value over that will be discarded.
+         * @param request AddVirtualCurrencyTypesRequest
+         * @return Running future that will complete with BlankResult
+         */
+        public PlayFabFuture<PlayFabResult<BlankResult>> AddVirtualCurrencyTypes(final AddVirtualCurrencyTypesRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<BlankResult>>() {
+                public PlayFabResult<BlankResult> call() throws Exception {
+                    return privateAddVirtualCurrencyTypesAsync(null, request);
+                }
+            });
+        }
+
+        /**
+         * Bans users by PlayFab ID with optional IP address, or MAC address for the provided game.
+         * @param request BanUsersRequest
+         * @return Running future that will complete with BanUsersResult
+         */
+        public PlayFabFuture<PlayFabResult<BanUsersResult>> BanUsers(final BanUsersRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<BanUsersResult>>() {
+                public PlayFabResult<BanUsersResult> call() throws Exception {
+                    return privateBanUsersAsync(null, request);
+                }
+            });
+        }
+
+        /**
+         * Checks the global count for the limited edition item.
+         * @param request CheckLimitedEditionItemAvailabilityRequest
+         * @return Running future that will complete with CheckLimitedEditionItemAvailabilityResult
+         */
+        public PlayFabFuture<PlayFabResult<CheckLimitedEditionItemAvailabilityResult>> CheckLimitedEditionItemAvailability(final CheckLimitedEditionItemAvailabilityRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<CheckLimitedEditionItemAvailabilityResult>>() {
+                public PlayFabResult<CheckLimitedEditionItemAvailabilityResult> call() throws Exception {
+                    return privateCheckLimitedEditionItemAvailabilityAsync(null, request);
+                }
+            });
+        }
+
+        /**
+         * Create an ActionsOnPlayersInSegment task, which iterates through all players in a segment to execute action.
+         * @param request CreateActionsOnPlayerSegmentTaskRequest
+         * @return Running future that will complete with CreateTaskResult
+         */
+        public PlayFabFuture<PlayFabResult<CreateTaskResult>> CreateActionsOnPlayersInSegmentTask(final CreateActionsOnPlayerSegmentTaskRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<CreateTaskResult>>() {
+                public PlayFabResult<CreateTaskResult> call() throws Exception {
+                    return privateCreateActionsOnPlayersInSegmentTaskAsync(null, request);
+                }
+            });
+        }
+
+        /**
+         * Create a CloudScript task, which can run a CloudScript on a schedule.
+         * @param request CreateCloudScriptTaskRequest
+         * @return Running future that will complete with CreateTaskResult
+         */
+        public PlayFabFuture<PlayFabResult<CreateTaskResult>> CreateCloudScriptTask(final CreateCloudScriptTaskRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<CreateTaskResult>>() {
+                public PlayFabResult<CreateTaskResult> call() throws Exception {
+                    return privateCreateCloudScriptTaskAsync(null, request);
+                }
+            });
+        }
+
+        /**
+         * Create a Insights Scheduled Scaling task, which can scale Insights Performance Units on a schedule
+         * @param request CreateInsightsScheduledScalingTaskRequest
+         * @return Running future that will complete with CreateTaskResult
+         */
+        public PlayFabFuture<PlayFabResult<CreateTaskResult>> CreateInsightsScheduledScalingTask(final CreateInsightsScheduledScalingTaskRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<CreateTaskResult>>() {
+                public PlayFabResult<CreateTaskResult> call() throws Exception {
+                    return privateCreateInsightsScheduledScalingTaskAsync(null, request);
+                }
+            });
+        }
+
+        /**
+         * Registers a relationship between a title and an Open ID Connect provider.
+         * @param request CreateOpenIdConnectionRequest
+         * @return Running future that will complete with EmptyResponse
+         */
+        public PlayFabFuture<PlayFabResult<EmptyResponse>> CreateOpenIdConnection(final CreateOpenIdConnectionRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<EmptyResponse>>() {
+                public PlayFabResult<EmptyResponse> call() throws Exception {
+                    return privateCreateOpenIdConnectionAsync(null, request);
+                }
+            });
+        }
+
+        /**
+         * Creates a new Player Shared Secret Key. It may take up to 5 minutes for this key to become generally available after
+         * this API returns.
+         * @param request CreatePlayerSharedSecretRequest
+         * @return Running future that will complete with CreatePlayerSharedSecretResult
+         */
+        public PlayFabFuture<PlayFabResult<CreatePlayerSharedSecretResult>> CreatePlayerSharedSecret(final CreatePlayerSharedSecretRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<CreatePlayerSharedSecretResult>>() {
+                public PlayFabResult<CreatePlayerSharedSecretResult> call() throws Exception {
+                    return privateCreatePlayerSharedSecretAsync(null, request);
+                }
+            });
+        }
+
+        /**
+         * Adds a new player statistic configuration to the title, optionally allowing the developer to specify a reset interval
+         * and an aggregation method.
+         * @param request CreatePlayerStatisticDefinitionRequest
+         * @return Running future that will complete with CreatePlayerStatisticDefinitionResult
+         */
+        public PlayFabFuture<PlayFabResult<CreatePlayerStatisticDefinitionResult>> CreatePlayerStatisticDefinition(final CreatePlayerStatisticDefinitionRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<CreatePlayerStatisticDefinitionResult>>() {
+                public PlayFabResult<CreatePlayerStatisticDefinitionResult> call() throws Exception {
+                    return privateCreatePlayerStatisticDefinitionAsync(null, request);
+                }
+            });
+        }
+
+        /**
+         * Creates a new player segment by defining the conditions on player properties. Also, create actions to target the player
+         * segments for a title.
+         * @param request CreateSegmentRequest
+         * @return Running future that will complete with CreateSegmentResponse
+         */
+        public PlayFabFuture<PlayFabResult<CreateSegmentResponse>> CreateSegment(final CreateSegmentRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<CreateSegmentResponse>>() {
+                public PlayFabResult<CreateSegmentResponse> call() throws Exception {
+                    return privateCreateSegmentAsync(null, request);
+                }
+            });
+        }
+
+        /**
+         * Delete a content file from the title. When deleting a file that does not exist, it returns success.
+         * @param request DeleteContentRequest
+         * @return Running future that will complete with BlankResult
+         */
+        public PlayFabFuture<PlayFabResult<BlankResult>> DeleteContent(final DeleteContentRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<BlankResult>>() {
+                public PlayFabResult<BlankResult> call() throws Exception {
+                    return privateDeleteContentAsync(null, request);
+                }
+            });
+        }
+
+        /**
+         * Removes a master player account entirely from all titles and deletes all associated data
+         * @param request DeleteMasterPlayerAccountRequest
+         * @return Running future that will complete with DeleteMasterPlayerAccountResult
+         */
+        public PlayFabFuture<PlayFabResult<DeleteMasterPlayerAccountResult>> DeleteMasterPlayerAccount(final DeleteMasterPlayerAccountRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<DeleteMasterPlayerAccountResult>>() {
+                public PlayFabResult<DeleteMasterPlayerAccountResult> call() throws Exception {
+                    return privateDeleteMasterPlayerAccountAsync(null, request);
+                }
+            });
+        }
+
+        /**
+         * Deletes a player's subscription
+         * @param request DeleteMembershipSubscriptionRequest
+         * @return Running future that will complete with DeleteMembershipSubscriptionResult
+         */
+        public PlayFabFuture<PlayFabResult<DeleteMembershipSubscriptionResult>> DeleteMembershipSubscription(final DeleteMembershipSubscriptionRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<DeleteMembershipSubscriptionResult>>() {
+                public PlayFabResult<DeleteMembershipSubscriptionResult> call() throws Exception {
+                    return privateDeleteMembershipSubscriptionAsync(null, request);
+                }
+            });
+        }
+
+        /**
+         * Removes a relationship between a title and an OpenID Connect provider.
+         * @param request DeleteOpenIdConnectionRequest
+         * @return Running future that will complete with EmptyResponse
+         */
+        public PlayFabFuture<PlayFabResult<EmptyResponse>> DeleteOpenIdConnection(final DeleteOpenIdConnectionRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<EmptyResponse>>() {
+                public PlayFabResult<EmptyResponse> call() throws Exception {
+                    return privateDeleteOpenIdConnectionAsync(null, request);
+                }
+            });
+        }
+
+        /**
+         * Removes a user's player account from a title and deletes all associated data
+         * @param request DeletePlayerRequest
+         * @return Running future that will complete with DeletePlayerResult
+         */
+        public PlayFabFuture<PlayFabResult<DeletePlayerResult>> DeletePlayer(final DeletePlayerRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<DeletePlayerResult>>() {
+                public PlayFabResult<DeletePlayerResult> call() throws Exception {
+                    return privateDeletePlayerAsync(null, request);
+                }
+            });
+        }
+
+        /**
+         * Deletes an existing Player Shared Secret Key. It may take up to 5 minutes for this delete to be reflected after this API
+         * returns.
+         * @param request DeletePlayerSharedSecretRequest
+         * @return Running future that will complete with DeletePlayerSharedSecretResult
+         */
+        public PlayFabFuture<PlayFabResult<DeletePlayerSharedSecretResult>> DeletePlayerSharedSecret(final DeletePlayerSharedSecretRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<DeletePlayerSharedSecretResult>>() {
+                public PlayFabResult<DeletePlayerSharedSecretResult> call() throws Exception {
+                    return privateDeletePlayerSharedSecretAsync(null, request);
+                }
+            });
+        }
+
+        /**
+         * Deletes an existing player segment and its associated action(s) for a title.
+         * @param request DeleteSegmentRequest
+         * @return Running future that will complete with DeleteSegmentsResponse
+         */
+        public PlayFabFuture<PlayFabResult<DeleteSegmentsResponse>> DeleteSegment(final DeleteSegmentRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<DeleteSegmentsResponse>>() {
+                public PlayFabResult<DeleteSegmentsResponse> call() throws Exception {
+                    return privateDeleteSegmentAsync(null, request);
+                }
+            });
+        }
+
+        /**
+         * Deletes an existing virtual item store
+         * @param request DeleteStoreRequest
+         * @return Running future that will complete with DeleteStoreResult
+         */
+        public PlayFabFuture<PlayFabResult<DeleteStoreResult>> DeleteStore(final DeleteStoreRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<DeleteStoreResult>>() {
+                public PlayFabResult<DeleteStoreResult> call() throws Exception {
+                    return privateDeleteStoreAsync(null, request);
+                }
+            });
+        }
+
+        /**
+         * Delete a task.
+         * @param request DeleteTaskRequest
+         * @return Running future that will complete with EmptyResponse
+         */
+        public PlayFabFuture<PlayFabResult<EmptyResponse>> DeleteTask(final DeleteTaskRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<EmptyResponse>>() {
+                public PlayFabResult<EmptyResponse> call() throws Exception {
+                    return privateDeleteTaskAsync(null, request);
+                }
+            });
+        }
+
+        /**
+         * Permanently deletes a title and all associated configuration
+         * @param request DeleteTitleRequest
+         * @return Running future that will complete with DeleteTitleResult
+         */
+        public PlayFabFuture<PlayFabResult<DeleteTitleResult>> DeleteTitle(final DeleteTitleRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<DeleteTitleResult>>() {
+                public PlayFabResult<DeleteTitleResult> call() throws Exception {
+                    return privateDeleteTitleAsync(null, request);
+                }
+            });
+        }
+
+        /**
+         * Deletes a specified set of title data overrides.
+         * @param request DeleteTitleDataOverrideRequest
+         * @return Running future that will complete with DeleteTitleDataOverrideResult
+         */
+        public PlayFabFuture<PlayFabResult<DeleteTitleDataOverrideResult>> DeleteTitleDataOverride(final DeleteTitleDataOverrideRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<DeleteTitleDataOverrideResult>>() {
+                public PlayFabResult<DeleteTitleDataOverrideResult> call() throws Exception {
+                    return privateDeleteTitleDataOverrideAsync(null, request);
+                }
+            });
+        }
+
+        /**
+         * Exports all associated data of a master player account
+         * @param request ExportMasterPlayerDataRequest
+         * @return Running future that will complete with ExportMasterPlayerDataResult
+         */
+        public PlayFabFuture<PlayFabResult<ExportMasterPlayerDataResult>> ExportMasterPlayerData(final ExportMasterPlayerDataRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<ExportMasterPlayerDataResult>>() {
+                public PlayFabResult<ExportMasterPlayerDataResult> call() throws Exception {
+                    return privateExportMasterPlayerDataAsync(null, request);
+                }
+            });
+        }
+
+        /**
+         * Get information about a ActionsOnPlayersInSegment task instance.
+         * @param request GetTaskInstanceRequest
+         * @return Running future that will complete with GetActionsOnPlayersInSegmentTaskInstanceResult
+         */
+        public PlayFabFuture<PlayFabResult<GetActionsOnPlayersInSegmentTaskInstanceResult>> GetActionsOnPlayersInSegmentTaskInstance(final GetTaskInstanceRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<GetActionsOnPlayersInSegmentTaskInstanceResult>>() {
+                public PlayFabResult<GetActionsOnPlayersInSegmentTaskInstanceResult> call() throws Exception {
+                    return privateGetActionsOnPlayersInSegmentTaskInstanceAsync(null, request);
+                }
+            });
+        }
+
+        /**
+         * Retrieves an array of player segment definitions. Results from this can be used in subsequent API calls such as
+         * GetPlayersInSegment which requires a Segment ID. While segment names can change the ID for that segment will not change.
+         * @param request GetAllSegmentsRequest
+         * @return Running future that will complete with GetAllSegmentsResult
+         */
+        public PlayFabFuture<PlayFabResult<GetAllSegmentsResult>> GetAllSegments(final GetAllSegmentsRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<GetAllSegmentsResult>>() {
+                public PlayFabResult<GetAllSegmentsResult> call() throws Exception {
+                    return privateGetAllSegmentsAsync(null, request);
+                }
+            });
+        }
+
+        /**
+         * Retrieves the specified version of the title's catalog of virtual goods, including all defined properties
+         * @param request GetCatalogItemsRequest
+         * @return Running future that will complete with GetCatalogItemsResult
+         */
+        public PlayFabFuture<PlayFabResult<GetCatalogItemsResult>> GetCatalogItems(final GetCatalogItemsRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<GetCatalogItemsResult>>() {
+                public PlayFabResult<GetCatalogItemsResult> call() throws Exception {
+                    return privateGetCatalogItemsAsync(null, request);
+                }
+            });
+        }
+
+        /**
+         * Gets the contents and information of a specific Cloud Script revision.
+         * @param request GetCloudScriptRevisionRequest
+         * @return Running future that will complete with GetCloudScriptRevisionResult
+         */
+        public PlayFabFuture<PlayFabResult<GetCloudScriptRevisionResult>> GetCloudScriptRevision(final GetCloudScriptRevisionRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<GetCloudScriptRevisionResult>>() {
+                public PlayFabResult<GetCloudScriptRevisionResult> call() throws Exception {
+                    return privateGetCloudScriptRevisionAsync(null, request);
+                }
+            });
+        }
+
+        /**
+         * Get detail information about a CloudScript task instance.
+         * @param request GetTaskInstanceRequest
+         * @return Running future that will complete with GetCloudScriptTaskInstanceResult
+         */
+        public PlayFabFuture<PlayFabResult<GetCloudScriptTaskInstanceResult>> GetCloudScriptTaskInstance(final GetTaskInstanceRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<GetCloudScriptTaskInstanceResult>>() {
+                public PlayFabResult<GetCloudScriptTaskInstanceResult> call() throws Exception {
+                    return privateGetCloudScriptTaskInstanceAsync(null, request);
+                }
+            });
+        }
+
+        /**
+         * Lists all the current cloud script versions. For each version, information about the current published and latest
+         * revisions is also listed.
+         * @param request GetCloudScriptVersionsRequest
+         * @return Running future that will complete with GetCloudScriptVersionsResult
+         */
+        public PlayFabFuture<PlayFabResult<GetCloudScriptVersionsResult>> GetCloudScriptVersions(final GetCloudScriptVersionsRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<GetCloudScriptVersionsResult>>() {
+                public PlayFabResult<GetCloudScriptVersionsResult> call() throws Exception {
+                    return privateGetCloudScriptVersionsAsync(null, request);
+                }
+            });
+        }
+
+        /**
+         * List all contents of the title and get statistics such as size
+         * @param request GetContentListRequest
+         * @return Running future that will complete with GetContentListResult
+         */
+        public PlayFabFuture<PlayFabResult<GetContentListResult>> GetContentList(final GetContentListRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<GetContentListResult>>() {
+                public PlayFabResult<GetContentListResult> call() throws Exception {
+                    return privateGetContentListAsync(null, request);
+                }
+            });
+        }
+
+        /**
+         * Retrieves the pre-signed URL for uploading a content file. A subsequent HTTP PUT to the returned URL uploads the
+         * content. Also, please be aware that the Content service is specifically PlayFab's CDN offering, for which standard CDN
+         * rates apply.
+         * @param request GetContentUploadUrlRequest
+         * @return Running future that will complete with GetContentUploadUrlResult
+         */
+        public PlayFabFuture<PlayFabResult<GetContentUploadUrlResult>> GetContentUploadUrl(final GetContentUploadUrlRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<GetContentUploadUrlResult>>() {
+                public PlayFabResult<GetContentUploadUrlResult> call() throws Exception {
+                    return privateGetContentUploadUrlAsync(null, request);
+                }
+            });
+        }
+
+        /**
+         * Retrieves a download URL for the requested report
+         * @param request GetDataReportRequest
+         * @return Running future that will complete with GetDataReportResult
+         */
+        public PlayFabFuture<PlayFabResult<GetDataReportResult>> GetDataReport(final GetDataReportRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<GetDataReportResult>>() {
+                public PlayFabResult<GetDataReportResult> call() throws Exception {
+                    return privateGetDataReportAsync(null, request);
+                }
+            });
+        }
+
+        /**
+         * Retrieves the details for a specific completed session, including links to standard out and standard error logs
+         * @param request GetMatchmakerGameInfoRequest
+         * @return Running future that will complete with GetMatchmakerGameInfoResult
+         */
+        public PlayFabFuture<PlayFabResult<GetMatchmakerGameInfoResult>> GetMatchmakerGameInfo(final GetMatchmakerGameInfoRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<GetMatchmakerGameInfoResult>>() {
+                public PlayFabResult<GetMatchmakerGameInfoResult> call() throws Exception {
+                    return privateGetMatchmakerGameInfoAsync(null, request);
+                }
+            });
+        }
+
+        /**
+         * Retrieves the details of defined game modes for the specified game server executable
+         * @param request GetMatchmakerGameModesRequest
+         * @return Running future that will complete with GetMatchmakerGameModesResult
+         */
+        public PlayFabFuture<PlayFabResult<GetMatchmakerGameModesResult>> GetMatchmakerGameModes(final GetMatchmakerGameModesRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<GetMatchmakerGameModesResult>>() {
+                public PlayFabResult<GetMatchmakerGameModesResult> call() throws Exception {
+                    return privateGetMatchmakerGameModesAsync(null, request);
+                }
+            });
+        }
+
+        /**
+         * Get the list of titles that the player has played
+         * @param request GetPlayedTitleListRequest
+         * @return Running future that will complete with GetPlayedTitleListResult
+         */
+        public PlayFabFuture<PlayFabResult<GetPlayedTitleListResult>> GetPlayedTitleList(final GetPlayedTitleListRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<GetPlayedTitleListResult>>() {
+                public PlayFabResult<GetPlayedTitleListResult> call() throws Exception {
+                    return privateGetPlayedTitleListAsync(null, request);
+                }
+            });
+        }
+
+        /**
+         * Gets a player's ID from an auth token.
+         * @param request GetPlayerIdFromAuthTokenRequest
+         * @return Running future that will complete with GetPlayerIdFromAuthTokenResult
+         */
+        public PlayFabFuture<PlayFabResult<GetPlayerIdFromAuthTokenResult>> GetPlayerIdFromAuthToken(final GetPlayerIdFromAuthTokenRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<GetPlayerIdFromAuthTokenResult>>() {
+                public PlayFabResult<GetPlayerIdFromAuthTokenResult> call() throws Exception {
+                    return privateGetPlayerIdFromAuthTokenAsync(null, request);
+                }
+            });
+        }
+
+        /**
+         * Retrieves the player's profile
+         * @param request GetPlayerProfileRequest
+         * @return Running future that will complete with GetPlayerProfileResult
+         */
+        public PlayFabFuture<PlayFabResult<GetPlayerProfileResult>> GetPlayerProfile(final GetPlayerProfileRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<GetPlayerProfileResult>>() {
+                public PlayFabResult<GetPlayerProfileResult> call() throws Exception {
+                    return privateGetPlayerProfileAsync(null, request);
+                }
+            });
+        }
+
+        /**
+         * List all segments that a player currently belongs to at this moment in time.
+         * @param request GetPlayersSegmentsRequest
+         * @return Running future that will complete with GetPlayerSegmentsResult
+         */
+        public PlayFabFuture<PlayFabResult<GetPlayerSegmentsResult>> GetPlayerSegments(final GetPlayersSegmentsRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<GetPlayerSegmentsResult>>() {
+                public PlayFabResult<GetPlayerSegmentsResult> call() throws Exception {
+                    return privateGetPlayerSegmentsAsync(null, request);
+                }
+            });
+        }
+
+        /**
+         * Returns all Player Shared Secret Keys including disabled and expired.
+         * @param request GetPlayerSharedSecretsRequest
+         * @return Running future that will complete with GetPlayerSharedSecretsResult
+         */
+        public PlayFabFuture<PlayFabResult<GetPlayerSharedSecretsResult>> GetPlayerSharedSecrets(final GetPlayerSharedSecretsRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<GetPlayerSharedSecretsResult>>() {
+                public PlayFabResult<GetPlayerSharedSecretsResult> call() throws Exception {
+                    return privateGetPlayerSharedSecretsAsync(null, request);
+                }
+            });
+        }
+
+        /**
+         * Allows for paging through all players in a given segment. This API creates a snapshot of all player profiles that match
+         * the segment definition at the time of its creation and lives through the Total Seconds to Live, refreshing its life span
+         * on each subsequent use of the Continuation Token. Profiles that change during the course of paging will not be reflected
+         * in the results. AB Test segments are currently not supported by this operation. NOTE: This API is limited to being
+         * called 30 times in one minute. You will be returned an error if you exceed this threshold.
+         * @param request GetPlayersInSegmentRequest
+         * @return Running future that will complete with GetPlayersInSegmentResult
+         */
+        public PlayFabFuture<PlayFabResult<GetPlayersInSegmentResult>> GetPlayersInSegment(final GetPlayersInSegmentRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<GetPlayersInSegmentResult>>() {
+                public PlayFabResult<GetPlayersInSegmentResult> call() throws Exception {
+                    return privateGetPlayersInSegmentAsync(null, request);
+                }
+            });
+        }
+
+        /**
+         * Retrieves the configuration information for all player statistics defined in the title, regardless of whether they have
+         * a reset interval.
+         * @param request GetPlayerStatisticDefinitionsRequest
+         * @return Running future that will complete with GetPlayerStatisticDefinitionsResult
+         */
+        public PlayFabFuture<PlayFabResult<GetPlayerStatisticDefinitionsResult>> GetPlayerStatisticDefinitions(final GetPlayerStatisticDefinitionsRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<GetPlayerStatisticDefinitionsResult>>() {
+                public PlayFabResult<GetPlayerStatisticDefinitionsResult> call() throws Exception {
+                    return privateGetPlayerStatisticDefinitionsAsync(null, request);
+                }
+            });
+        }
+
+        /**
+         * Retrieves the information on the available versions of the specified statistic.
+         * @param request GetPlayerStatisticVersionsRequest
+         * @return Running future that will complete with GetPlayerStatisticVersionsResult
+         */
+        public PlayFabFuture<PlayFabResult<GetPlayerStatisticVersionsResult>> GetPlayerStatisticVersions(final GetPlayerStatisticVersionsRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<GetPlayerStatisticVersionsResult>>() {
+                public PlayFabResult<GetPlayerStatisticVersionsResult> call() throws Exception {
+                    return privateGetPlayerStatisticVersionsAsync(null, request);
+                }
+            });
+        }
+
+        /**
+         * Get all tags with a given Namespace (optional) from a player profile.
+         * @param request GetPlayerTagsRequest
+         * @return Running future that will complete with GetPlayerTagsResult
+         */
+        public PlayFabFuture<PlayFabResult<GetPlayerTagsResult>> GetPlayerTags(final GetPlayerTagsRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<GetPlayerTagsResult>>() {
+                public PlayFabResult<GetPlayerTagsResult> call() throws Exception {
+                    return privateGetPlayerTagsAsync(null, request);
+                }
+            });
+        }
+
+        /**
+         * Gets the requested policy.
+         * @param request GetPolicyRequest
+         * @return Running future that will complete with GetPolicyResponse
+         */
+        public PlayFabFuture<PlayFabResult<GetPolicyResponse>> GetPolicy(final GetPolicyRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<GetPolicyResponse>>() {
+                public PlayFabResult<GetPolicyResponse> call() throws Exception {
+                    return privateGetPolicyAsync(null, request);
+                }
+            });
+        }
+
+        /**
+         * Retrieves the key-value store of custom publisher settings
+         * @param request GetPublisherDataRequest
+         * @return Running future that will complete with GetPublisherDataResult
+         */
+        public PlayFabFuture<PlayFabResult<GetPublisherDataResult>> GetPublisherData(final GetPublisherDataRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<GetPublisherDataResult>>() {
+                public PlayFabResult<GetPublisherDataResult> call() throws Exception {
+                    return privateGetPublisherDataAsync(null, request);
+                }
+            });
+        }
+
+        /**
+         * Retrieves the random drop table configuration for the title
+         * @param request GetRandomResultTablesRequest
+         * @return Running future that will complete with GetRandomResultTablesResult
+         */
+        public PlayFabFuture<PlayFabResult<GetRandomResultTablesResult>> GetRandomResultTables(final GetRandomResultTablesRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<GetRandomResultTablesResult>>() {
+                public PlayFabResult<GetRandomResultTablesResult> call() throws Exception {
+                    return privateGetRandomResultTablesAsync(null, request);
+                }
+            });
+        }
+
+        /**
+         * Get detail information of a segment and its associated definition(s) and action(s) for a title.
+         * @param request GetSegmentsRequest
+         * @return Running future that will complete with GetSegmentsResponse
+         */
+        public PlayFabFuture<PlayFabResult<GetSegmentsResponse>> GetSegments(final GetSegmentsRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<GetSegmentsResponse>>() {
+                public PlayFabResult<GetSegmentsResponse> call() throws Exception {
+                    return privateGetSegmentsAsync(null, request);
+                }
+            });
+        }
+
+        /**
+         * Retrieves the build details for the specified game server executable
+         * @param request GetServerBuildInfoRequest
+         * @return Running future that will complete with GetServerBuildInfoResult
+         */
+        public PlayFabFuture<PlayFabResult<GetServerBuildInfoResult>> GetServerBuildInfo(final GetServerBuildInfoRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<GetServerBuildInfoResult>>() {
+                public PlayFabResult<GetServerBuildInfoResult> call() throws Exception {
+                    return privateGetServerBuildInfoAsync(null, request);
+                }
+            });
+        }
+
+        /**
+         * Retrieves the pre-authorized URL for uploading a game server package containing a build (does not enable the build for
+         * use - see AddServerBuild)
+         * @param request GetServerBuildUploadURLRequest
+         * @return Running future that will complete with GetServerBuildUploadURLResult
+         */
+        public PlayFabFuture<PlayFabResult<GetServerBuildUploadURLResult>> GetServerBuildUploadUrl(final GetServerBuildUploadURLRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<GetServerBuildUploadURLResult>>() {
+                public PlayFabResult<GetServerBuildUploadURLResult> call() throws Exception {
+                    return privateGetServerBuildUploadUrlAsync(null, request);
+                }
+            });
+        }
+
+        /**
+         * Retrieves the set of items defined for the specified store, including all prices defined
+         * @param request GetStoreItemsRequest
+         * @return Running future that will complete with GetStoreItemsResult
+         */
+        public PlayFabFuture<PlayFabResult<GetStoreItemsResult>> GetStoreItems(final GetStoreItemsRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<GetStoreItemsResult>>() {
+                public PlayFabResult<GetStoreItemsResult> call() throws Exception {
+                    return privateGetStoreItemsAsync(null, request);
+                }
+            });
+        }
+
+        /**
+         * Query for task instances by task, status, or time range.
+         * @param request GetTaskInstancesRequest
+         * @return Running future that will complete with GetTaskInstancesResult
+         */
+        public PlayFabFuture<PlayFabResult<GetTaskInstancesResult>> GetTaskInstances(final GetTaskInstancesRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<GetTaskInstancesResult>>() {
+                public PlayFabResult<GetTaskInstancesResult> call() throws Exception {
+                    return privateGetTaskInstancesAsync(null, request);
+                }
+            });
+        }
+
+        /**
+         * Get definition information on a specified task or all tasks within a title.
+         * @param request GetTasksRequest
+         * @return Running future that will complete with GetTasksResult
+         */
+        public PlayFabFuture<PlayFabResult<GetTasksResult>> GetTasks(final GetTasksRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<GetTasksResult>>() {
+                public PlayFabResult<GetTasksResult> call() throws Exception {
+                    return privateGetTasksAsync(null, request);
+                }
+            });
+        }
+
+        /**
+         * Retrieves the key-value store of custom title settings which can be read by the client
+         * @param request GetTitleDataRequest
+         * @return Running future that will complete with GetTitleDataResult
+         */
+        public PlayFabFuture<PlayFabResult<GetTitleDataResult>> GetTitleData(final GetTitleDataRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<GetTitleDataResult>>() {
+                public PlayFabResult<GetTitleDataResult> call() throws Exception {
+                    return privateGetTitleDataAsync(null, request);
+                }
+            });
+        }
+
+        /**
+         * Retrieves the key-value store of custom title settings which cannot be read by the client
+         * @param request GetTitleDataRequest
+         * @return Running future that will complete with GetTitleDataResult
+         */
+        public PlayFabFuture<PlayFabResult<GetTitleDataResult>> GetTitleInternalData(final GetTitleDataRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<GetTitleDataResult>>() {
+                public PlayFabResult<GetTitleDataResult> call() throws Exception {
+                    return privateGetTitleInternalDataAsync(null, request);
+                }
+            });
+        }
+
+        /**
+         * Retrieves the relevant details for a specified user, based upon a match against a supplied unique identifier
+         * @param request LookupUserAccountInfoRequest
+         * @return Running future that will complete with LookupUserAccountInfoResult
+         */
+        public PlayFabFuture<PlayFabResult<LookupUserAccountInfoResult>> GetUserAccountInfo(final LookupUserAccountInfoRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<LookupUserAccountInfoResult>>() {
+                public PlayFabResult<LookupUserAccountInfoResult> call() throws Exception {
+                    return privateGetUserAccountInfoAsync(null, request);
+                }
+            });
+        }
+
+        /**
+         * Gets all bans for a user.
+         * @param request GetUserBansRequest
+         * @return Running future that will complete with GetUserBansResult
+         */
+        public PlayFabFuture<PlayFabResult<GetUserBansResult>> GetUserBans(final GetUserBansRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<GetUserBansResult>>() {
+                public PlayFabResult<GetUserBansResult> call() throws Exception {
+                    return privateGetUserBansAsync(null, request);
+                }
+            });
+        }
+
+        /**
+         * Retrieves the title-specific custom data for the user which is readable and writable by the client
+         * @param request GetUserDataRequest
+         * @return Running future that will complete with GetUserDataResult
+         */
+        public PlayFabFuture<PlayFabResult<GetUserDataResult>> GetUserData(final GetUserDataRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<GetUserDataResult>>() {
+                public PlayFabResult<GetUserDataResult> call() throws Exception {
+                    return privateGetUserDataAsync(null, request);
+                }
+            });
+        }
+
+        /**
+         * Retrieves the title-specific custom data for the user which cannot be accessed by the client
+         * @param request GetUserDataRequest
+         * @return Running future that will complete with GetUserDataResult
+         */
+        public PlayFabFuture<PlayFabResult<GetUserDataResult>> GetUserInternalData(final GetUserDataRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<GetUserDataResult>>() {
+                public PlayFabResult<GetUserDataResult> call() throws Exception {
+                    return privateGetUserInternalDataAsync(null, request);
+                }
+            });
+        }
+
+        /**
+         * Retrieves the specified user's current inventory of virtual goods
+         * @param request GetUserInventoryRequest
+         * @return Running future that will complete with GetUserInventoryResult
+         */
+        public PlayFabFuture<PlayFabResult<GetUserInventoryResult>> GetUserInventory(final GetUserInventoryRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<GetUserInventoryResult>>() {
+                public PlayFabResult<GetUserInventoryResult> call() throws Exception {
+                    return privateGetUserInventoryAsync(null, request);
+                }
+            });
+        }
+
+        /**
+         * Retrieves the publisher-specific custom data for the user which is readable and writable by the client
+         * @param request GetUserDataRequest
+         * @return Running future that will complete with GetUserDataResult
+         */
+        public PlayFabFuture<PlayFabResult<GetUserDataResult>> GetUserPublisherData(final GetUserDataRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<GetUserDataResult>>() {
+                public PlayFabResult<GetUserDataResult> call() throws Exception {
+                    return privateGetUserPublisherDataAsync(null, request);
+                }
+            });
+        }
+
+        /**
+         * Retrieves the publisher-specific custom data for the user which cannot be accessed by the client
+         * @param request GetUserDataRequest
+         * @return Running future that will complete with GetUserDataResult
+         */
+        public PlayFabFuture<PlayFabResult<GetUserDataResult>> GetUserPublisherInternalData(final GetUserDataRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<GetUserDataResult>>() {
+                public PlayFabResult<GetUserDataResult> call() throws Exception {
+                    return privateGetUserPublisherInternalDataAsync(null, request);
+                }
+            });
+        }
+
+        /**
+         * Retrieves the publisher-specific custom data for the user which can only be read by the client
+         * @param request GetUserDataRequest
+         * @return Running future that will complete with GetUserDataResult
+         */
+        public PlayFabFuture<PlayFabResult<GetUserDataResult>> GetUserPublisherReadOnlyData(final GetUserDataRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<GetUserDataResult>>() {
+                public PlayFabResult<GetUserDataResult> call() throws Exception {
+                    return privateGetUserPublisherReadOnlyDataAsync(null, request);
+                }
+            });
+        }
+
+        /**
+         * Retrieves the title-specific custom data for the user which can only be read by the client
+         * @param request GetUserDataRequest
+         * @return Running future that will complete with GetUserDataResult
+         */
+        public PlayFabFuture<PlayFabResult<GetUserDataResult>> GetUserReadOnlyData(final GetUserDataRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<GetUserDataResult>>() {
+                public PlayFabResult<GetUserDataResult> call() throws Exception {
+                    return privateGetUserReadOnlyDataAsync(null, request);
+                }
+            });
+        }
+
+        /**
+         * Adds the specified items to the specified user inventories
+         * @param request GrantItemsToUsersRequest
+         * @return Running future that will complete with GrantItemsToUsersResult
+         */
+        public PlayFabFuture<PlayFabResult<GrantItemsToUsersResult>> GrantItemsToUsers(final GrantItemsToUsersRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<GrantItemsToUsersResult>>() {
+                public PlayFabResult<GrantItemsToUsersResult> call() throws Exception {
+                    return privateGrantItemsToUsersAsync(null, request);
+                }
+            });
+        }
+
+        /**
+         * Increases the global count for the given scarce resource.
+         * @param request IncrementLimitedEditionItemAvailabilityRequest
+         * @return Running future that will complete with IncrementLimitedEditionItemAvailabilityResult
+         */
+        public PlayFabFuture<PlayFabResult<IncrementLimitedEditionItemAvailabilityResult>> IncrementLimitedEditionItemAvailability(final IncrementLimitedEditionItemAvailabilityRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<IncrementLimitedEditionItemAvailabilityResult>>() {
+                public PlayFabResult<IncrementLimitedEditionItemAvailabilityResult> call() throws Exception {
+                    return privateIncrementLimitedEditionItemAvailabilityAsync(null, request);
+                }
+            });
+        }
+
+        /**
+         * Resets the indicated statistic, removing all player entries for it and backing up the old values.
+         * @param request IncrementPlayerStatisticVersionRequest
+         * @return Running future that will complete with IncrementPlayerStatisticVersionResult
+         */
+        public PlayFabFuture<PlayFabResult<IncrementPlayerStatisticVersionResult>> IncrementPlayerStatisticVersion(final IncrementPlayerStatisticVersionRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<IncrementPlayerStatisticVersionResult>>() {
+                public PlayFabResult<IncrementPlayerStatisticVersionResult> call() throws Exception {
+                    return privateIncrementPlayerStatisticVersionAsync(null, request);
+                }
+            });
+        }
+
+        /**
+         * Retrieves a list of all Open ID Connect providers registered to a title.
+         * @param request ListOpenIdConnectionRequest
+         * @return Running future that will complete with ListOpenIdConnectionResponse
+         */
+        public PlayFabFuture<PlayFabResult<ListOpenIdConnectionResponse>> ListOpenIdConnection(final ListOpenIdConnectionRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<ListOpenIdConnectionResponse>>() {
+                public PlayFabResult<ListOpenIdConnectionResponse> call() throws Exception {
+                    return privateListOpenIdConnectionAsync(null, request);
+                }
+            });
+        }
+
+        /**
+         * Retrieves the build details for all game server executables which are currently defined for the title
+         * @param request ListBuildsRequest
+         * @return Running future that will complete with ListBuildsResult
+         */
+        public PlayFabFuture<PlayFabResult<ListBuildsResult>> ListServerBuilds(final ListBuildsRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<ListBuildsResult>>() {
+                public PlayFabResult<ListBuildsResult> call() throws Exception {
+                    return privateListServerBuildsAsync(null, request);
+                }
+            });
+        }
+
+        /**
+         * Retuns the list of all defined virtual currencies for the title
+         * @param request ListVirtualCurrencyTypesRequest
+         * @return Running future that will complete with ListVirtualCurrencyTypesResult
+         */
+        public PlayFabFuture<PlayFabResult<ListVirtualCurrencyTypesResult>> ListVirtualCurrencyTypes(final ListVirtualCurrencyTypesRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<ListVirtualCurrencyTypesResult>>() {
+                public PlayFabResult<ListVirtualCurrencyTypesResult> call() throws Exception {
+                    return privateListVirtualCurrencyTypesAsync(null, request);
+                }
+            });
+        }
+
+        /**
+         * Updates the game server mode details for the specified game server executable
+         * @param request ModifyMatchmakerGameModesRequest
+         * @return Running future that will complete with ModifyMatchmakerGameModesResult
+         */
+        public PlayFabFuture<PlayFabResult<ModifyMatchmakerGameModesResult>> ModifyMatchmakerGameModes(final ModifyMatchmakerGameModesRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<ModifyMatchmakerGameModesResult>>() {
+                public PlayFabResult<ModifyMatchmakerGameModesResult> call() throws Exception {
+                    return privateModifyMatchmakerGameModesAsync(null, request);
+                }
+            });
+        }
+
+        /**
+         * Updates the build details for the specified game server executable
+         * @param request ModifyServerBuildRequest
+         * @return Running future that will complete with ModifyServerBuildResult
+         */
+        public PlayFabFuture<PlayFabResult<ModifyServerBuildResult>> ModifyServerBuild(final ModifyServerBuildRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<ModifyServerBuildResult>>() {
+                public PlayFabResult<ModifyServerBuildResult> call() throws Exception {
+                    return privateModifyServerBuildAsync(null, request);
+                }
+            });
+        }
+
+        /**
+         * Attempts to process an order refund through the original real money payment provider.
+         * @param request RefundPurchaseRequest
+         * @return Running future that will complete with RefundPurchaseResponse
+         */
+        public PlayFabFuture<PlayFabResult<RefundPurchaseResponse>> RefundPurchase(final RefundPurchaseRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<RefundPurchaseResponse>>() {
+                public PlayFabResult<RefundPurchaseResponse> call() throws Exception {
+                    return privateRefundPurchaseAsync(null, request);
+                }
+            });
+        }
+
+        /**
+         * Remove a given tag from a player profile. The tag's namespace is automatically generated based on the source of the tag.
+         * @param request RemovePlayerTagRequest
+         * @return Running future that will complete with RemovePlayerTagResult
+         */
+        public PlayFabFuture<PlayFabResult<RemovePlayerTagResult>> RemovePlayerTag(final RemovePlayerTagRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<RemovePlayerTagResult>>() {
+                public PlayFabResult<RemovePlayerTagResult> call() throws Exception {
+                    return privateRemovePlayerTagAsync(null, request);
+                }
+            });
+        }
+
+        /**
+         * Removes the game server executable specified from the set of those a client is permitted to request in a call to
+         * StartGame
+         * @param request RemoveServerBuildRequest
+         * @return Running future that will complete with RemoveServerBuildResult
+         */
+        public PlayFabFuture<PlayFabResult<RemoveServerBuildResult>> RemoveServerBuild(final RemoveServerBuildRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<RemoveServerBuildResult>>() {
+                public PlayFabResult<RemoveServerBuildResult> call() throws Exception {
+                    return privateRemoveServerBuildAsync(null, request);
+                }
+            });
+        }
+
+        /**
+         * Removes one or more virtual currencies from the set defined for the title.
+         * @param request RemoveVirtualCurrencyTypesRequest
+         * @return Running future that will complete with BlankResult
+         */
+        public PlayFabFuture<PlayFabResult<BlankResult>> RemoveVirtualCurrencyTypes(final RemoveVirtualCurrencyTypesRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<BlankResult>>() {
+                public PlayFabResult<BlankResult> call() throws Exception {
+                    return privateRemoveVirtualCurrencyTypesAsync(null, request);
+                }
+            });
+        }
+
+        /**
+         * Completely removes all statistics for the specified character, for the current game
+         * @param request ResetCharacterStatisticsRequest
+         * @return Running future that will complete with ResetCharacterStatisticsResult
+         */
+        public PlayFabFuture<PlayFabResult<ResetCharacterStatisticsResult>> ResetCharacterStatistics(final ResetCharacterStatisticsRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<ResetCharacterStatisticsResult>>() {
+                public PlayFabResult<ResetCharacterStatisticsResult> call() throws Exception {
+                    return privateResetCharacterStatisticsAsync(null, request);
+                }
+            });
+        }
+
+        /**
+         * Reset a player's password for a given title.
+         * @param request ResetPasswordRequest
+         * @return Running future that will complete with ResetPasswordResult
+         */
+        public PlayFabFuture<PlayFabResult<ResetPasswordResult>> ResetPassword(final ResetPasswordRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<ResetPasswordResult>>() {
+                public PlayFabResult<ResetPasswordResult> call() throws Exception {
+                    return privateResetPasswordAsync(null, request);
+                }
+            });
+        }
+
+        /**
+         * Completely removes all statistics for the specified user, for the current game
+         * @param request ResetUserStatisticsRequest
+         * @return Running future that will complete with ResetUserStatisticsResult
+         */
+        public PlayFabFuture<PlayFabResult<ResetUserStatisticsResult>> ResetUserStatistics(final ResetUserStatisticsRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<ResetUserStatisticsResult>>() {
+                public PlayFabResult<ResetUserStatisticsResult> call() throws Exception {
+                    return privateResetUserStatisticsAsync(null, request);
+                }
+            });
+        }
+
+        /**
+         * Attempts to resolve a dispute with the original order's payment provider.
+         * @param request ResolvePurchaseDisputeRequest
+         * @return Running future that will complete with ResolvePurchaseDisputeResponse
+         */
+        public PlayFabFuture<PlayFabResult<ResolvePurchaseDisputeResponse>> ResolvePurchaseDispute(final ResolvePurchaseDisputeRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<ResolvePurchaseDisputeResponse>>() {
+                public PlayFabResult<ResolvePurchaseDisputeResponse> call() throws Exception {
+                    return privateResolvePurchaseDisputeAsync(null, request);
+                }
+            });
+        }
+
+        /**
+         * Revoke all active bans for a user.
+         * @param request RevokeAllBansForUserRequest
+         * @return Running future that will complete with RevokeAllBansForUserResult
+         */
+        public PlayFabFuture<PlayFabResult<RevokeAllBansForUserResult>> RevokeAllBansForUser(final RevokeAllBansForUserRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<RevokeAllBansForUserResult>>() {
+                public PlayFabResult<RevokeAllBansForUserResult> call() throws Exception {
+                    return privateRevokeAllBansForUserAsync(null, request);
+                }
+            });
+        }
+
+        /**
+         * Revoke all active bans specified with BanId.
+         * @param request RevokeBansRequest
+         * @return Running future that will complete with RevokeBansResult
+         */
+        public PlayFabFuture<PlayFabResult<RevokeBansResult>> RevokeBans(final RevokeBansRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<RevokeBansResult>>() {
+                public PlayFabResult<RevokeBansResult> call() throws Exception {
+                    return privateRevokeBansAsync(null, request);
+                }
+            });
+        }
+
+        /**
+         * Revokes access to an item in a user's inventory
+         * @param request RevokeInventoryItemRequest
+         * @return Running future that will complete with RevokeInventoryResult
+         */
+        public PlayFabFuture<PlayFabResult<RevokeInventoryResult>> RevokeInventoryItem(final RevokeInventoryItemRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<RevokeInventoryResult>>() {
+                public PlayFabResult<RevokeInventoryResult> call() throws Exception {
+                    return privateRevokeInventoryItemAsync(null, request);
+                }
+            });
+        }
+
+        /**
+         * Revokes access for up to 25 items across multiple users and characters.
+         * @param request RevokeInventoryItemsRequest
+         * @return Running future that will complete with RevokeInventoryItemsResult
+         */
+        public PlayFabFuture<PlayFabResult<RevokeInventoryItemsResult>> RevokeInventoryItems(final RevokeInventoryItemsRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<RevokeInventoryItemsResult>>() {
+                public PlayFabResult<RevokeInventoryItemsResult> call() throws Exception {
+                    return privateRevokeInventoryItemsAsync(null, request);
+                }
+            });
+        }
+
+        /**
+         * Run a task immediately regardless of its schedule.
+         * @param request RunTaskRequest
+         * @return Running future that will complete with RunTaskResult
+         */
+        public PlayFabFuture<PlayFabResult<RunTaskResult>> RunTask(final RunTaskRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<RunTaskResult>>() {
+                public PlayFabResult<RunTaskResult> call() throws Exception {
+                    return privateRunTaskAsync(null, request);
+                }
+            });
+        }
+
+        /**
+         * Forces an email to be sent to the registered email address for the user's account, with a link allowing the user to
+         * change the password.If an account recovery email template ID is provided, an email using the custom email template will
+         * be used.
+         * @param request SendAccountRecoveryEmailRequest
+         * @return Running future that will complete with SendAccountRecoveryEmailResult
+         */
+        public PlayFabFuture<PlayFabResult<SendAccountRecoveryEmailResult>> SendAccountRecoveryEmail(final SendAccountRecoveryEmailRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<SendAccountRecoveryEmailResult>>() {
+                public PlayFabResult<SendAccountRecoveryEmailResult> call() throws Exception {
+                    return privateSendAccountRecoveryEmailAsync(null, request);
+                }
+            });
+        }
+
+        /**
+         * Creates the catalog configuration of all virtual goods for the specified catalog version
+         * @param request UpdateCatalogItemsRequest
+         * @return Running future that will complete with UpdateCatalogItemsResult
+         */
+        public PlayFabFuture<PlayFabResult<UpdateCatalogItemsResult>> SetCatalogItems(final UpdateCatalogItemsRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<UpdateCatalogItemsResult>>() {
+                public PlayFabResult<UpdateCatalogItemsResult> call() throws Exception {
+                    return privateSetCatalogItemsAsync(null, request);
+                }
+            });
+        }
+
+        /**
+         * Sets the override expiration for a membership subscription
+         * @param request SetMembershipOverrideRequest
+         * @return Running future that will complete with SetMembershipOverrideResult
+         */
+        public PlayFabFuture<PlayFabResult<SetMembershipOverrideResult>> SetMembershipOverride(final SetMembershipOverrideRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<SetMembershipOverrideResult>>() {
+                public PlayFabResult<SetMembershipOverrideResult> call() throws Exception {
+                    return privateSetMembershipOverrideAsync(null, request);
+                }
+            });
+        }
+
+        /**
+         * Sets or resets the player's secret. Player secrets are used to sign API requests.
+         * @param request SetPlayerSecretRequest
+         * @return Running future that will complete with SetPlayerSecretResult
+         */
+        public PlayFabFuture<PlayFabResult<SetPlayerSecretResult>> SetPlayerSecret(final SetPlayerSecretRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<SetPlayerSecretResult>>() {
+                public PlayFabResult<SetPlayerSecretResult> call() throws Exception {
+                    return privateSetPlayerSecretAsync(null, request);
+                }
+            });
+        }
+
+        /**
+         * Sets the currently published revision of a title Cloud Script
+         * @param request SetPublishedRevisionRequest
+         * @return Running future that will complete with SetPublishedRevisionResult
+         */
+        public PlayFabFuture<PlayFabResult<SetPublishedRevisionResult>> SetPublishedRevision(final SetPublishedRevisionRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<SetPublishedRevisionResult>>() {
+                public PlayFabResult<SetPublishedRevisionResult> call() throws Exception {
+                    return privateSetPublishedRevisionAsync(null, request);
+                }
+            });
+        }
+
+        /**
+         * Updates the key-value store of custom publisher settings
+         * @param request SetPublisherDataRequest
+         * @return Running future that will complete with SetPublisherDataResult
+         */
+        public PlayFabFuture<PlayFabResult<SetPublisherDataResult>> SetPublisherData(final SetPublisherDataRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<SetPublisherDataResult>>() {
+                public PlayFabResult<SetPublisherDataResult> call() throws Exception {
+                    return privateSetPublisherDataAsync(null, request);
+                }
+            });
+        }
+
+        /**
+         * Sets all the items in one virtual store
+         * @param request UpdateStoreItemsRequest
+         * @return Running future that will complete with UpdateStoreItemsResult
+         */
+        public PlayFabFuture<PlayFabResult<UpdateStoreItemsResult>> SetStoreItems(final UpdateStoreItemsRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<UpdateStoreItemsResult>>() {
+                public PlayFabResult<UpdateStoreItemsResult> call() throws Exception {
+                    return privateSetStoreItemsAsync(null, request);
+                }
+            });
+        }
+
+        /**
+         * Creates and updates the key-value store of custom title settings which can be read by the client
+         * @param request SetTitleDataRequest
+         * @return Running future that will complete with SetTitleDataResult
+         */
+        public PlayFabFuture<PlayFabResult<SetTitleDataResult>> SetTitleData(final SetTitleDataRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<SetTitleDataResult>>() {
+                public PlayFabResult<SetTitleDataResult> call() throws Exception {
+                    return privateSetTitleDataAsync(null, request);
+                }
+            });
+        }
+
+        /**
+         * Set and delete key-value pairs in a title data override instance.
+         * @param request SetTitleDataAndOverridesRequest
+         * @return Running future that will complete with SetTitleDataAndOverridesResult
+         */
+        public PlayFabFuture<PlayFabResult<SetTitleDataAndOverridesResult>> SetTitleDataAndOverrides(final SetTitleDataAndOverridesRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<SetTitleDataAndOverridesResult>>() {
+                public PlayFabResult<SetTitleDataAndOverridesResult> call() throws Exception {
+                    return privateSetTitleDataAndOverridesAsync(null, request);
+                }
+            });
+        }
+
+        /**
+         * Updates the key-value store of custom title settings which cannot be read by the client
+         * @param request SetTitleDataRequest
+         * @return Running future that will complete with SetTitleDataResult
+         */
+        public PlayFabFuture<PlayFabResult<SetTitleDataResult>> SetTitleInternalData(final SetTitleDataRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<SetTitleDataResult>>() {
+                public PlayFabResult<SetTitleDataResult> call() throws Exception {
+                    return privateSetTitleInternalDataAsync(null, request);
+                }
+            });
+        }
+
+        /**
+         * Sets the Amazon Resource Name (ARN) for iOS and Android push notifications. Documentation on the exact restrictions can
+         * be found at: http://docs.aws.amazon.com/sns/latest/api/API_CreatePlatformApplication.html. Currently, Amazon device
+         * Messaging is not supported.
+         * @param request SetupPushNotificationRequest
+         * @return Running future that will complete with SetupPushNotificationResult
+         */
+        public PlayFabFuture<PlayFabResult<SetupPushNotificationResult>> SetupPushNotification(final SetupPushNotificationRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<SetupPushNotificationResult>>() {
+                public PlayFabResult<SetupPushNotificationResult> call() throws Exception {
+                    return privateSetupPushNotificationAsync(null, request);
+                }
+            });
+        }
+
+        /**
+         * Decrements the specified virtual currency by the stated amount
+         * @param request SubtractUserVirtualCurrencyRequest
+         * @return Running future that will complete with ModifyUserVirtualCurrencyResult
+         */
+        public PlayFabFuture<PlayFabResult<ModifyUserVirtualCurrencyResult>> SubtractUserVirtualCurrency(final SubtractUserVirtualCurrencyRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<ModifyUserVirtualCurrencyResult>>() {
+                public PlayFabResult<ModifyUserVirtualCurrencyResult> call() throws Exception {
+                    return privateSubtractUserVirtualCurrencyAsync(null, request);
+                }
+            });
+        }
+
+        /**
+         * Updates information of a list of existing bans specified with Ban Ids.
+         * @param request UpdateBansRequest
+         * @return Running future that will complete with UpdateBansResult
+         */
+        public PlayFabFuture<PlayFabResult<UpdateBansResult>> UpdateBans(final UpdateBansRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<UpdateBansResult>>() {
+                public PlayFabResult<UpdateBansResult> call() throws Exception {
+                    return privateUpdateBansAsync(null, request);
+                }
+            });
+        }
+
+        /**
+         * Updates the catalog configuration for virtual goods in the specified catalog version
+         * @param request UpdateCatalogItemsRequest
+         * @return Running future that will complete with UpdateCatalogItemsResult
+         */
+        public PlayFabFuture<PlayFabResult<UpdateCatalogItemsResult>> UpdateCatalogItems(final UpdateCatalogItemsRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<UpdateCatalogItemsResult>>() {
+                public PlayFabResult<UpdateCatalogItemsResult> call() throws Exception {
+                    return privateUpdateCatalogItemsAsync(null, request);
+                }
+            });
+        }
+
+        /**
+         * Creates a new Cloud Script revision and uploads source code to it. Note that at this time, only one file should be
+         * submitted in the revision.
+         * @param request UpdateCloudScriptRequest
+         * @return Running future that will complete with UpdateCloudScriptResult
+         */
+        public PlayFabFuture<PlayFabResult<UpdateCloudScriptResult>> UpdateCloudScript(final UpdateCloudScriptRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<UpdateCloudScriptResult>>() {
+                public PlayFabResult<UpdateCloudScriptResult> call() throws Exception {
+                    return privateUpdateCloudScriptAsync(null, request);
+                }
+            });
+        }
+
+        /**
+         * Modifies data and credentials for an existing relationship between a title and an Open ID Connect provider
+         * @param request UpdateOpenIdConnectionRequest
+         * @return Running future that will complete with EmptyResponse
+         */
+        public PlayFabFuture<PlayFabResult<EmptyResponse>> UpdateOpenIdConnection(final UpdateOpenIdConnectionRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<EmptyResponse>>() {
+                public PlayFabResult<EmptyResponse> call() throws Exception {
+                    return privateUpdateOpenIdConnectionAsync(null, request);
+                }
+            });
+        }
+
+        /**
+         * Updates a existing Player Shared Secret Key. It may take up to 5 minutes for this update to become generally available
+         * after this API returns.
+         * @param request UpdatePlayerSharedSecretRequest
+         * @return Running future that will complete with UpdatePlayerSharedSecretResult
+         */
+        public PlayFabFuture<PlayFabResult<UpdatePlayerSharedSecretResult>> UpdatePlayerSharedSecret(final UpdatePlayerSharedSecretRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<UpdatePlayerSharedSecretResult>>() {
+                public PlayFabResult<UpdatePlayerSharedSecretResult> call() throws Exception {
+                    return privateUpdatePlayerSharedSecretAsync(null, request);
+                }
+            });
+        }
+
+        /**
+         * Updates a player statistic configuration for the title, optionally allowing the developer to specify a reset interval.
+         * @param request UpdatePlayerStatisticDefinitionRequest
+         * @return Running future that will complete with UpdatePlayerStatisticDefinitionResult
+         */
+        public PlayFabFuture<PlayFabResult<UpdatePlayerStatisticDefinitionResult>> UpdatePlayerStatisticDefinition(final UpdatePlayerStatisticDefinitionRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<UpdatePlayerStatisticDefinitionResult>>() {
+                public PlayFabResult<UpdatePlayerStatisticDefinitionResult> call() throws Exception {
+                    return privateUpdatePlayerStatisticDefinitionAsync(null, request);
+                }
+            });
+        }
+
+        /**
+         * Changes a policy for a title
+         * @param request UpdatePolicyRequest
+         * @return Running future that will complete with UpdatePolicyResponse
+         */
+        public PlayFabFuture<PlayFabResult<UpdatePolicyResponse>> UpdatePolicy(final UpdatePolicyRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<UpdatePolicyResponse>>() {
+                public PlayFabResult<UpdatePolicyResponse> call() throws Exception {
+                    return privateUpdatePolicyAsync(null, request);
+                }
+            });
+        }
+
+        /**
+         * Updates the random drop table configuration for the title
+         * @param request UpdateRandomResultTablesRequest
+         * @return Running future that will complete with UpdateRandomResultTablesResult
+         */
+        public PlayFabFuture<PlayFabResult<UpdateRandomResultTablesResult>> UpdateRandomResultTables(final UpdateRandomResultTablesRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<UpdateRandomResultTablesResult>>() {
+                public PlayFabResult<UpdateRandomResultTablesResult> call() throws Exception {
+                    return privateUpdateRandomResultTablesAsync(null, request);
+                }
+            });
+        }
+
+        /**
+         * Updates an existing player segment and its associated definition(s) and action(s) for a title.
+         * @param request UpdateSegmentRequest
+         * @return Running future that will complete with UpdateSegmentResponse
+         */
+        public PlayFabFuture<PlayFabResult<UpdateSegmentResponse>> UpdateSegment(final UpdateSegmentRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<UpdateSegmentResponse>>() {
+                public PlayFabResult<UpdateSegmentResponse> call() throws Exception {
+                    return privateUpdateSegmentAsync(null, request);
+                }
+            });
+        }
+
+        /**
+         * Updates an existing virtual item store with new or modified items
+         * @param request UpdateStoreItemsRequest
+         * @return Running future that will complete with UpdateStoreItemsResult
+         */
+        public PlayFabFuture<PlayFabResult<UpdateStoreItemsResult>> UpdateStoreItems(final UpdateStoreItemsRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<UpdateStoreItemsResult>>() {
+                public PlayFabResult<UpdateStoreItemsResult> call() throws Exception {
+                    return privateUpdateStoreItemsAsync(null, request);
+                }
+            });
+        }
+
+        /**
+         * Update an existing task.
+         * @param request UpdateTaskRequest
+         * @return Running future that will complete with EmptyResponse
+         */
+        public PlayFabFuture<PlayFabResult<EmptyResponse>> UpdateTask(final UpdateTaskRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<EmptyResponse>>() {
+                public PlayFabResult<EmptyResponse> call() throws Exception {
+                    return privateUpdateTaskAsync(null, request);
+                }
+            });
+        }
+
+        /**
+         * Updates the title-specific custom data for the user which is readable and writable by the client
+         * @param request UpdateUserDataRequest
+         * @return Running future that will complete with UpdateUserDataResult
+         */
+        public PlayFabFuture<PlayFabResult<UpdateUserDataResult>> UpdateUserData(final UpdateUserDataRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<UpdateUserDataResult>>() {
+                public PlayFabResult<UpdateUserDataResult> call() throws Exception {
+                    return privateUpdateUserDataAsync(null, request);
+                }
+            });
+        }
+
+        /**
+         * Updates the title-specific custom data for the user which cannot be accessed by the client
+         * @param request UpdateUserInternalDataRequest
+         * @return Running future that will complete with UpdateUserDataResult
+         */
+        public PlayFabFuture<PlayFabResult<UpdateUserDataResult>> UpdateUserInternalData(final UpdateUserInternalDataRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<UpdateUserDataResult>>() {
+                public PlayFabResult<UpdateUserDataResult> call() throws Exception {
+                    return privateUpdateUserInternalDataAsync(null, request);
+                }
+            });
+        }
+
+        /**
+         * Updates the publisher-specific custom data for the user which is readable and writable by the client
+         * @param request UpdateUserDataRequest
+         * @return Running future that will complete with UpdateUserDataResult
+         */
+        public PlayFabFuture<PlayFabResult<UpdateUserDataResult>> UpdateUserPublisherData(final UpdateUserDataRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<UpdateUserDataResult>>() {
+                public PlayFabResult<UpdateUserDataResult> call() throws Exception {
+                    return privateUpdateUserPublisherDataAsync(null, request);
+                }
+            });
+        }
+
+        /**
+         * Updates the publisher-specific custom data for the user which cannot be accessed by the client
+         * @param request UpdateUserInternalDataRequest
+         * @return Running future that will complete with UpdateUserDataResult
+         */
+        public PlayFabFuture<PlayFabResult<UpdateUserDataResult>> UpdateUserPublisherInternalData(final UpdateUserInternalDataRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<UpdateUserDataResult>>() {
+                public PlayFabResult<UpdateUserDataResult> call() throws Exception {
+                    return privateUpdateUserPublisherInternalDataAsync(null, request);
+                }
+            });
+        }
+
+        /**
+         * Updates the publisher-specific custom data for the user which can only be read by the client
+         * @param request UpdateUserDataRequest
+         * @return Running future that will complete with UpdateUserDataResult
+         */
+        public PlayFabFuture<PlayFabResult<UpdateUserDataResult>> UpdateUserPublisherReadOnlyData(final UpdateUserDataRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<UpdateUserDataResult>>() {
+                public PlayFabResult<UpdateUserDataResult> call() throws Exception {
+                    return privateUpdateUserPublisherReadOnlyDataAsync(null, request);
+                }
+            });
+        }
+
+        /**
+         * Updates the title-specific custom data for the user which can only be read by the client
+         * @param request UpdateUserDataRequest
+         * @return Running future that will complete with UpdateUserDataResult
+         */
+        public PlayFabFuture<PlayFabResult<UpdateUserDataResult>> UpdateUserReadOnlyData(final UpdateUserDataRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<UpdateUserDataResult>>() {
+                public PlayFabResult<UpdateUserDataResult> call() throws Exception {
+                    return privateUpdateUserReadOnlyDataAsync(null, request);
+                }
+            });
+        }
+
+        /**
+         * Updates the title specific display name for a user
+         * @param request UpdateUserTitleDisplayNameRequest
+         * @return Running future that will complete with UpdateUserTitleDisplayNameResult
+         */
+        public PlayFabFuture<PlayFabResult<UpdateUserTitleDisplayNameResult>> UpdateUserTitleDisplayName(final UpdateUserTitleDisplayNameRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<UpdateUserTitleDisplayNameResult>>() {
+                public PlayFabResult<UpdateUserTitleDisplayNameResult> call() throws Exception {
+                    return privateUpdateUserTitleDisplayNameAsync(null, request);
+                }
+            });
+        }
+    }
 }
@@ -0,0 +1,3413 @@
+package com.playfab;
+
+import com.playfab.internal.*;
+import com.playfab.PlayFabAdminModels.*;
+import com.playfab.PlayFabErrors.*;
+import com.playfab.PlayFabSettings;
+import java.util.concurrent.*;
+import java.util.*;
+
+    /**
+     * The calls of PlayFabAdminAPI, made with a PlayFabApiContext of this object's own instead of PlayFabSettings. Login
+     * and GetEntityToken calls keep the credentials they return in that context
+     */
+public class PlayFabAdminInstanceAPI extends PlayFabInstanceAPI {
+    private final Async async = new Async();
+
+    public PlayFabAdminInstanceAPI(PlayFabApiContext context) {
+        super(context);
+    }
+
+    /**
+     * Abort an ongoing task instance.
+     * @param request AbortTaskInstanceRequest
+     * @return EmptyResponse
+     */
+    public PlayFabResult<EmptyResponse> AbortTaskInstance(final AbortTaskInstanceRequest request) {
+        try {
+            return PlayFabAdminAPI.privateAbortTaskInstanceAsync(this, request);
+        } catch(Exception e) {
+            PlayFabResult<EmptyResponse> exceptionResult = new PlayFabResult<EmptyResponse>();
+            exceptionResult.Error = PlayFabHTTP.GeneratePfError(-1, PlayFabErrorCode.Unknown, e.getMessage(), null, null);
+            return exceptionResult;
+        }
+    }
+
+    /**
+     * Update news item to include localized version
+     * @param request AddLocalizedNewsRequest
+     * @return AddLocalizedNewsResult
+     */
+    public PlayFabResult<AddLocalizedNewsResult> AddLocalizedNews(final AddLocalizedNewsRequest request) {
+        try {
+            return PlayFabAdminAPI.privateAddLocalizedNewsAsync(this, request);
+        } catch(Exception e) {
+            PlayFabResult<AddLocalizedNewsResult> exceptionResult = new PlayFabResult<AddLocalizedNewsResult>();
+            exceptionResult.Error = PlayFabHTTP.GeneratePfError(-1, PlayFabErrorCode.Unknown, e.getMessage(), null, null);
+            return exceptionResult;
+        }
+    }
+
+    /**
+     * Adds a new news item to the title's news feed
+     * @param request AddNewsRequest
+     * @return AddNewsResult
+     */
+    public PlayFabResult<AddNewsResult> AddNews(final AddNewsRequest request) {
+        try {
+            return PlayFabAdminAPI.privateAddNewsAsync(this, request);
+        } catch(Exception e) {
+            PlayFabResult<AddNewsResult> exceptionResult = new PlayFabResult<AddNewsResult>();
+            exceptionResult.Error = PlayFabHTTP.GeneratePfError(-1, PlayFabErrorCode.Unknown, e.getMessage(), null, null);
+            return exceptionResult;
+        }
+    }
+
+    /**
+     * Adds a given tag to a player profile. The tag's namespace is automatically generated based on the source of the tag.
+     * @param request AddPlayerTagRequest
+     * @return AddPlayerTagResult
+     */
+    public PlayFabResult<AddPlayerTagResult> AddPlayerTag(final AddPlayerTagRequest request) {
+        try {
+            return PlayFabAdminAPI.privateAddPlayerTagAsync(this, request);
+        } catch(Exception e) {
+            PlayFabResult<AddPlayerTagResult> exceptionResult = new PlayFabResult<AddPlayerTagResult>();
+            exceptionResult.Error = PlayFabHTTP.GeneratePfError(-1, PlayFabErrorCode.Unknown, e.getMessage(), null, null);
+            return exceptionResult;
+        }
+    }
+
+    /**
+     * Adds the game server executable specified (previously uploaded - see GetServerBuildUploadUrl) to the set of those a
+     * client is permitted to request in a call to StartGame
+     * @param request AddServerBuildRequest
+     * @return AddServerBuildResult
+     */
+    public PlayFabResult<AddServerBuildResult> AddServerBuild(final AddServerBuildRequest request) {
+        try {
+            return PlayFabAdminAPI.privateAddServerBuildAsync(this, request);
+        } catch(Exception e) {
+            PlayFabResult<AddServerBuildResult> exceptionResult = new PlayFabResult<AddServerBuildResult>();
+            exceptionResult.Error = PlayFabHTTP.GeneratePfError(-1, PlayFabErrorCode.Unknown, e.getMessage(), null, null);
+            return exceptionResult;
+        }
+    }
+
+    /**
+     * Increments the specified virtual currency by the stated amount
+     * @param request AddUserVirtualCurrencyRequest
+     * @return ModifyUserVirtualCurrencyResult
+     */
+    public PlayFabResult<ModifyUserVirtualCurrencyResult> AddUserVirtualCurrency(final AddUserVirtualCurrencyRequest request) {
+        try {
+            return PlayFabAdminAPI.privateAddUserVirtualCurrencyAsync(this, request);
+        } catch(Exception e) {
+            PlayFabResult<ModifyUserVirtualCurrencyResult> exceptionResult = new PlayFabResult<ModifyUserVirtualCurrencyResult>();
+            exceptionResult.Error = PlayFabHTTP.GeneratePfError(-1, PlayFabErrorCode.Unknown, e.getMessage(), null, null);
+            return exceptionResult;
+        }
+    }
+
+    /**
+     * Adds one or more virtual currencies to the set defined for the title. Virtual Currencies have a maximum value of
+     * 2,147,483,647 when granted to a player. Any value over that will be discarded.
+     * @param request AddVirtualCurrencyTypesRequest
+     * @return BlankResult
+     */
+    public PlayFabResult<BlankResult> AddVirtualCurrencyTypes(final AddVirtualCurrencyTypesRequest request) {
+        try {
+            return PlayFabAdminAPI.privateAddVirtualCurrencyTypesAsync(this, request);
+        } catch(Exception e) {
+            PlayFabResult<BlankResult> exceptionResult = new PlayFabResult<BlankResult>();
+            exceptionResult.Error = PlayFabHTTP.GeneratePfError(-1, PlayFabErrorCode.Unknown, e.getMessage(), null, null);
+            return exceptionResult;
+        }
+    }
+
+    /**
+     * Bans users by PlayFab ID with optional IP address, or MAC address for the provided game.
+     * @param request BanUsersRequest
+     * @return BanUsersResult
+     */
+    public PlayFabResult<BanUsersResult> BanUsers(final BanUsersRequest request) {
+        try {
+            return PlayFabAdminAPI.privateBanUsersAsync(this, request);
+        } catch(Exception e) {
+            PlayFabResult<BanUsersResult> exceptionResult = new PlayFabResult<BanUsersResult>();
+            exceptionResult.Error = PlayFabHTTP.GeneratePfError(-1, PlayFabErrorCode.Unknown, e.getMessage(), null, null);
+            return exceptionResult;
+        }
+    }
+
+    /**
+     * Checks the global count for the limited edition item.
+     * @param request CheckLimitedEditionItemAvailabilityRequest
+     * @return CheckLimitedEditionItemAvailabilityResult
+     */
+    public PlayFabResult<CheckLimitedEditionItemAvailabilityResult> CheckLimitedEditionItemAvailability(final CheckLimitedEditionItemAvailabilityRequest request) {
+        try {
+            return PlayFabAdminAPI.privateCheckLimitedEditionItemAvailabilityAsync(this, request);
+        } catch(Exception e) {
+            PlayFabResult<CheckLimitedEditionItemAvailabilityResult> exceptionResult = new PlayFabResult<CheckLimitedEditionItemAvailabilityResult>();
+            exceptionResult.Error = PlayFabHTTP.GeneratePfError(-1, PlayFabErrorCode.Unknown, e.getMessage(), null, null);
+            return exceptionResult;
+        }
+    }
+
+    /**
+     * Create an ActionsOnPlayersInSegment task, which iterates through all players in a segment to execute action.
+     * @param request CreateActionsOnPlayerSegmentTaskRequest
+     * @return CreateTaskResult
+     */
+    public PlayFabResult<CreateTaskResult> CreateActionsOnPlayersInSegmentTask(final CreateActionsOnPlayerSegmentTaskRequest request) {
+        try {
+            return PlayFabAdminAPI.privateCreateActionsOnPlayersInSegmentTaskAsync(this, request);
+        } catch(Exception e) {
+            PlayFabResult<CreateTaskResult> exceptionResult = new PlayFabResult<CreateTaskResult>();
+            exceptionResult.Error = PlayFabHTTP.GeneratePfError(-1, PlayFabErrorCode.Unknown, e.getMessage(), null, null);
+            return exceptionResult;
+        }
+    }
+
+    /**
+     * Create a CloudScript task, which can run a CloudScript on a schedule.
+     * @param request CreateCloudScriptTaskRequest
+     * @return CreateTaskResult
+     */
+    public PlayFabResult<CreateTaskResult> CreateCloudScriptTask(final CreateCloudScriptTaskRequest request) {
+        try {
+            return PlayFabAdminAPI.privateCreateCloudScriptTaskAsync(this, request);
+        } catch(Exception e) {
+            PlayFabResult<CreateTaskResult> exceptionResult = new PlayFabResult<CreateTaskResult>();
+            exceptionResult.Error = PlayFabHTTP.GeneratePfError(-1, PlayFabErrorCode.Unknown, e.getMessage(), null, null);
+            return exceptionResult;
+        }
+    }
+
+    /**
+     * Create a Insights Scheduled Scaling task, which can scale Insights Performance Units on a schedule
+     * @param request CreateInsightsScheduledScalingTaskRequest
+     * @return CreateTaskResult
+     */
+    public PlayFabResult<CreateTaskResult> CreateInsightsScheduledScalingTask(final CreateInsightsScheduledScalingTaskRequest request) {
+        try {
+            return PlayFabAdminAPI.privateCreateInsightsScheduledScalingTaskAsync(this, request);
+        } catch(Exception e) {
+            PlayFabResult<CreateTaskResult> exceptionResult = new PlayFabResult<CreateTaskResult>();
+            exceptionResult.Error = PlayFabHTTP.GeneratePfError(-1, PlayFabErrorCode.Unknown, e.getMessage(), null, null);
+            return exceptionResult;
+        }
+    }
+
+    /**
+     * Registers a relationship between a title and an Open ID Connect provider.
+     * @param request CreateOpenIdConnectionRequest
+     * @return EmptyResponse
+     */
+    public PlayFabResult<EmptyResponse> CreateOpenIdConnection(final CreateOpenIdConnectionRequest request) {
+        try {
+            return PlayFabAdminAPI.privateCreateOpenIdConnectionAsync(this, request);
+        } catch(Exception e) {
+            PlayFabResult<EmptyResponse> exceptionResult = new PlayFabResult<EmptyResponse>();
+            exceptionResult.Error = PlayFabHTTP.GeneratePfError(-1, PlayFabErrorCode.Unknown, e.getMessage(), null, null);
+            return exceptionResult;
+        }
+    }
+
+    /**
+     * Creates a new Player Shared Secret Key. It may take up to 5 minutes for this key to become generally available after
+     * this API returns.
+     * @param request CreatePlayerSharedSecretRequest
+     * @return CreatePlayerSharedSecretResult
+     */
+    public PlayFabResult<CreatePlayerSharedSecretResult> CreatePlayerSharedSecret(final CreatePlayerSharedSecretRequest request) {
+        try {
+            return PlayFabAdminAPI.privateCreatePlayerSharedSecretAsync(this, request);
+        } catch(Exception e) {
+            PlayFabResult<CreatePlayerSharedSecretResult> exceptionResult = new PlayFabResult<CreatePlayerSharedSecretResult>();
+            exceptionResult.Error = PlayFabHTTP.GeneratePfError(-1, PlayFabErrorCode.Unknown, e.getMessage(), null, null);
+            return exceptionResult;
+        }
+    }
+
+    /**
+     * Adds a new player statistic configuration to the title, optionally allowing the developer to specify a reset interval
+     * and an aggregation method.
+     * @param request CreatePlayerStatisticDefinitionRequest
+     * @return CreatePlayerStatisticDefinitionResult
+     */
+    public PlayFabResult<CreatePlayerStatisticDefinitionResult> CreatePlayerStatisticDefinition(final CreatePlayerStatisticDefinitionRequest request) {
+        try {
+            return PlayFabAdminAPI.privateCreatePlayerStatisticDefinitionAsync(this, request);
+        } catch(Exception e) {
+            PlayFabResult<CreatePlayerStatisticDefinitionResult> exceptionResult = new PlayFabResult<CreatePlayerStatisticDefinitionResult>();
+            exceptionResult.Error = PlayFabHTTP.GeneratePfError(-1, PlayFabErrorCode.Unknown, e.getMessage(), null, null);
+            return exceptionResult;
+        }
+    }
+
+    /**
+     * Creates a new player segment by defining the conditions on player properties. Also, create actions to target the player
+     * segments for a title.
+     * @param request CreateSegmentRequest
+     * @return CreateSegmentResponse
+     */
+    public PlayFabResult<CreateSegmentResponse> CreateSegment(final CreateSegmentRequest request) {
+        try {
+            return PlayFabAdminAPI.privateCreateSegmentAsync(this, request);
+        } catch(Exception e) {
+            PlayFabResult<CreateSegmentResponse> exceptionResult = new PlayFabResult<CreateSegmentResponse>();
+            exceptionResult.Error = PlayFabHTTP.GeneratePfError(-1, PlayFabErrorCode.Unknown, e.getMessage(), null, null);
+            return exceptionResult;
+        }
+    }
+
+    /**
+     * Delete a content file from the title. When deleting a file that does not exist, it returns success.
+     * @param request DeleteContentRequest
+     * @return BlankResult
+     */
+    public PlayFabResult<BlankResult> DeleteContent(final DeleteContentRequest request) {
+        try {
+            return PlayFabAdminAPI.privateDeleteContentAsync(this, request);
+        } catch(Exception e) {
+            PlayFabResult<BlankResult> exceptionResult = new PlayFabResult<BlankResult>();
+            exceptionResult.Error = PlayFabHTTP.GeneratePfError(-1, PlayFabErrorCode.Unknown, e.getMessage(), null, null);
+            return exceptionResult;
+        }
+    }
+
+    /**
+     * Removes a master player account entirely from all titles and deletes all associated data
+     * @param request DeleteMasterPlayerAccountRequest
+     * @return DeleteMasterPlayerAccountResult
+     */
+    public PlayFabResult<DeleteMasterPlayerAccountResult> DeleteMasterPlayerAccount(final DeleteMasterPlayerAccountRequest request) {
+        try {
+            return PlayFabAdminAPI.privateDeleteMasterPlayerAccountAsync(this, request);
+        } catch(Exception e) {
+            PlayFabResult<DeleteMasterPlayerAccountResult> exceptionResult = new PlayFabResult<DeleteMasterPlayerAccountResult>();
+            exceptionResult.Error = PlayFabHTTP.GeneratePfError(-1, PlayFabErrorCode.Unknown, e.getMessage(), null, null);
+            return exceptionResult;
+        }
+    }
+
+    /**
+     * Deletes a player's subscription
+     * @param request DeleteMembershipSubscriptionRequest
+     * @return DeleteMembershipSubscriptionResult
+     */
+    public PlayFabResult<DeleteMembershipSubscriptionResult> DeleteMembershipSubscription(final DeleteMembershipSubscriptionRequest request) {
+        try {
+            return PlayFabAdminAPI.privateDeleteMembershipSubscriptionAsync(this, request);
+        } catch(Exception e) {
+            PlayFabResult<DeleteMembershipSubscriptionResult> exceptionResult = new PlayFabResult<DeleteMembershipSubscriptionResult>();
+            exceptionResult.Error = PlayFabHTTP.GeneratePfError(-1, PlayFabErrorCode.Unknown, e.getMessage(), null, null);
+            return exceptionResult;
+        }
+    }
+
+    /**
+     * Removes a relationship between a title and an OpenID Connect provider.
+     * @param request DeleteOpenIdConnectionRequest
+     * @return EmptyResponse
+     */
+    public PlayFabResult<EmptyResponse> DeleteOpenIdConnection(final DeleteOpenIdConnectionRequest request) {
+        try {
+            return PlayFabAdminAPI.privateDeleteOpenIdConnectionAsync(this, request);
+        } catch(Exception e) {
+            PlayFabResult<EmptyResponse> exceptionResult = new PlayFabResult<EmptyResponse>();
+            exceptionResult.Error = PlayFabHTTP.GeneratePfError(-1, PlayFabErrorCode.Unknown, e.getMessage(), null, null);
+            return exceptionResult;
+        }
+    }
+
+    /**
+     * Removes a user's player account from a title and deletes all associated data
+     * @param request DeletePlayerRequest
+     * @return DeletePlayerResult
+     */
+    public PlayFabResult<DeletePlayerResult> DeletePlayer(final DeletePlayerRequest request) {
+        try {
+            return PlayFabAdminAPI.privateDeletePlayerAsync(this, request);
+        } catch(Exception e) {
+            PlayFabResult<DeletePlayerResult> exceptionResult = new PlayFabResult<DeletePlayerResult>();
+            exceptionResult.Error = PlayFabHTTP.GeneratePfError(-1, PlayFabErrorCode.Unknown, e.getMessage(), null, null);
+            return exceptionResult;
+        }
+    }
+
+    /**
+     * Deletes an existing Player Shared Secret Key. It may take up to 5 minutes for this delete to be reflected after this API
+     * returns.
+     * @param request DeletePlayerSharedSecretRequest
+     * @return DeletePlayerSharedSecretResult
+     */
+    public PlayFabResult<DeletePlayerSharedSecretResult> DeletePlayerSharedSecret(final DeletePlayerSharedSecretRequest request) {
+        try {
+            return PlayFabAdminAPI.privateDeletePlayerSharedSecretAsync(this, request);
+        } catch(Exception e) {
+            PlayFabResult<DeletePlayerSharedSecretResult> exceptionResult = new PlayFabResult<DeletePlayerSharedSecretResult>();
+            exceptionResult.Error = PlayFabHTTP.GeneratePfError(-1, PlayFabErrorCode.Unknown, e.getMessage(), null, null);
+            return exceptionResult;
+        }
+    }
+
+    /**
+     * Deletes an existing player segment and its associated action(s) for a title.
+     * @param request DeleteSegmentRequest
+     * @return DeleteSegmentsResponse
+     */
+    public PlayFabResult<DeleteSegmentsResponse> DeleteSegment(final DeleteSegmentRequest request) {
+        try {
+            return PlayFabAdminAPI.privateDeleteSegmentAsync(this, request);
+        } catch(Exception e) {
+            PlayFabResult<DeleteSegmentsResponse> exceptionResult = new PlayFabResult<DeleteSegmentsResponse>();
+            exceptionResult.Error = PlayFabHTTP.GeneratePfError(-1, PlayFabErrorCode.Unknown, e.getMessage(), null, null);
+            return exceptionResult;
+        }
+    }
+
+    /**
+     * Deletes an existing virtual item store
+     * @param request DeleteStoreRequest
+     * @return DeleteStoreResult
+     */
+    public PlayFabResult<DeleteStoreResult> DeleteStore(final DeleteStoreRequest request) {
+        try {
+            return PlayFabAdminAPI.privateDeleteStoreAsync(this, request);
+        } catch(Exception e) {
+            PlayFabResult<DeleteStoreResult> exceptionResult = new PlayFabResult<DeleteStoreResult>();
+            exceptionResult.Error = PlayFabHTTP.GeneratePfError(-1, PlayFabErrorCode.Unknown, e.getMessage(), null, null);
+            return exceptionResult;
+        }
+    }
+
+    /**
+     * Delete a task.
+     * @param request DeleteTaskRequest
+     * @return EmptyResponse
+     */
+    public PlayFabResult<EmptyResponse> DeleteTask(final DeleteTaskRequest request) {
+        try {
+            return PlayFabAdminAPI.privateDeleteTaskAsync(this, request);
+        } catch(Exception e) {
+            PlayFabResult<EmptyResponse> exceptionResult = new PlayFabResult<EmptyResponse>();
+            exceptionResult.Error = PlayFabHTTP.GeneratePfError(-1, PlayFabErrorCode.Unknown, e.getMessage(), null, null);
+            return exceptionResult;
+        }
+    }
+
+    /**
+     * Permanently deletes a title and all associated configuration
+     * @param request DeleteTitleRequest
+     * @return DeleteTitleResult
+     */
+    public PlayFabResult<DeleteTitleResult> DeleteTitle(final DeleteTitleRequest request) {
+        try {
+            return PlayFabAdminAPI.privateDeleteTitleAsync(this, request);
+        } catch(Exception e) {
+            PlayFabResult<DeleteTitleResult> exceptionResult = new PlayFabResult<DeleteTitleResult>();
+            exceptionResult.Error = PlayFabHTTP.GeneratePfError(-1, PlayFabErrorCode.Unknown, e.getMessage(), null, null);
+            return exceptionResult;
+        }
+    }
+
+    /**
+     * Deletes a specified set of title data overrides.
+     * @param request DeleteTitleDataOverrideRequest
+     * @return DeleteTitleDataOverrideResult
+     */
+    public PlayFabResult<DeleteTitleDataOverrideResult> DeleteTitleDataOverride(final DeleteTitleDataOverrideRequest request) {
+        try {
+            return PlayFabAdminAPI.privateDeleteTitleDataOverrideAsync(this, request);
+        } catch(Exception e) {
+            PlayFabResult<DeleteTitleDataOverrideResult> exceptionResult = new PlayFabResult<DeleteTitleDataOverrideResult>();
+            exceptionResult.Error = PlayFabHTTP.GeneratePfError(-1, PlayFabErrorCode.Unknown, e.getMessage(), null, null);
+            return exceptionResult;
+        }
+    }
+
+    /**
+     * Exports all associated data of a master player account
+     * @param request ExportMasterPlayerDataRequest
+     * @return ExportMasterPlayerDataResult
+     */
+    public PlayFabResult<ExportMasterPlayerDataResult> ExportMasterPlayerData(final ExportMasterPlayerDataRequest request) {
+        try {
+            return PlayFabAdminAPI.privateExportMasterPlayerDataAsync(this, request);
+        } catch(Exception e) {
+            PlayFabResult<ExportMasterPlayerDataResult> exceptionResult = new PlayFabResult<ExportMasterPlayerDataResult>();
+            exceptionResult.Error = PlayFabHTTP.GeneratePfError(-1, PlayFabErrorCode.Unknown, e.getMessage(), null, null);
+            return exceptionResult;
+        }
+    }
+
+    /**
+     * Get information about a ActionsOnPlayersInSegment task instance.
+     * @param request GetTaskInstanceRequest
+     * @return GetActionsOnPlayersInSegmentTaskInstanceResult
+     */
+    public PlayFabResult<GetActionsOnPlayersInSegmentTaskInstanceResult> GetActionsOnPlayersInSegmentTaskInstance(final GetTaskInstanceRequest request) {
+        try {
+            return PlayFabAdminAPI.privateGetActionsOnPlayersInSegmentTaskInstanceAsync(this, request);
+        } catch(Exception e) {
+            PlayFabResult<GetActionsOnPlayersInSegmentTaskInstanceResult> exceptionResult = new PlayFabResult<GetActionsOnPlayersInSegmentTaskInstanceResult>();
+            exceptionResult.Error = PlayFabHTTP.GeneratePfError(-1, PlayFabErrorCode.Unknown, e.getMessage(), null, null);
+            return exceptionResult;
+        }
+    }
+
+    /**
+     * Retrieves an array of player segment definitions. Results from this can be used in subsequent API calls such as
+     * GetPlayersInSegment which requires a Segment ID. While segment names can change the ID for that segment will not change.
+     * @param request GetAllSegmentsRequest
+     * @return GetAllSegmentsResult
+     */
+    public PlayFabResult<GetAllSegmentsResult> GetAllSegments(final GetAllSegmentsRequest request) {
+        try {
+            return PlayFabAdminAPI.privateGetAllSegmentsAsync(this, request);
+        } catch(Exception e) {
+            PlayFabResult<GetAllSegmentsResult> exceptionResult = new PlayFabResult<GetAllSegmentsResult>();
+            exceptionResult.Error = PlayFabHTTP.GeneratePfError(-1, PlayFabErrorCode.Unknown, e.getMessage(), null, null);
+            return exceptionResult;
+        }
+    }
+
+    /**
+     * Retrieves the specified version of the title's catalog of virtual goods, including all defined properties
+     * @param request GetCatalogItemsRequest
+     * @return GetCatalogItemsResult
+     */
+    public PlayFabResult<GetCatalogItemsResult> GetCatalogItems(final GetCatalogItemsRequest request) {
+        try {
+            return PlayFabAdminAPI.privateGetCatalogItemsAsync(this, request);
+        } catch(Exception e) {
+            PlayFabResult<GetCatalogItemsResult> exceptionResult = new PlayFabResult<GetCatalogItemsResult>();
+            exceptionResult.Error = PlayFabHTTP.GeneratePfError(-1, PlayFabErrorCode.Unknown, e.getMessage(), null, null);
+            return exceptionResult;
+        }
+    }
+
+    /**
+     * Gets the contents and information of a specific Cloud Script revision.
+     * @param request GetCloudScriptRevisionRequest
+     * @return GetCloudScriptRevisionResult
+     */
+    public PlayFabResult<GetCloudScriptRevisionResult> GetCloudScriptRevision(final GetCloudScriptRevisionRequest request) {
+        try {
+            return PlayFabAdminAPI.privateGetCloudScriptRevisionAsync(this, request);
+        } catch(Exception e) {
+            PlayFabResult<GetCloudScriptRevisionResult> exceptionResult = new PlayFabResult<GetCloudScriptRevisionResult>();
+            exceptionResult.Error = PlayFabHTTP.GeneratePfError(-1, PlayFabErrorCode.Unknown, e.getMessage(), null, null);
+            return exceptionResult;
+        }
+    }
+
+    /**
+     * Get detail information about a CloudScript task instance.
+     * @param request GetTaskInstanceRequest
+     * @return GetCloudScriptTaskInstanceResult
+     */
+    public PlayFabResult<GetCloudScriptTaskInstanceResult> GetCloudScriptTaskInstance(final GetTaskInstanceRequest request) {
+        try {
+            return PlayFabAdminAPI.privateGetCloudScriptTaskInstanceAsync(this, request);
+        } catch(Exception e) {
+            PlayFabResult<GetCloudScriptTaskInstanceResult> exceptionResult = new PlayFabResult<GetCloudScriptTaskInstanceResult>();
+            exceptionResult.Error = PlayFabHTTP.GeneratePfError(-1, PlayFabErrorCode.Unknown, e.getMessage(), null, null);
+            return exceptionResult;
+        }
+    }
+
+    /**
+     * Lists all the current cloud script versions. For each version, information about the current published and latest
+     * revisions is also listed.
+     * @param request GetCloudScriptVersionsRequest
+     * @return GetCloudScriptVersionsResult
+     */
+    public PlayFabResult<GetCloudScriptVersionsResult> GetCloudScriptVersions(final GetCloudScriptVersionsRequest request) {
+        try {
+            return PlayFabAdminAPI.privateGetCloudScriptVersionsAsync(this, request);
+        } catch(Exception e) {
+            PlayFabResult<GetCloudScriptVersionsResult> exceptionResult = new PlayFabResult<GetCloudScriptVersionsResult>();
+            exceptionResult.Error = PlayFabHTTP.GeneratePfError(-1, PlayFabErrorCode.Unknown, e.getMessage(), null, null);
+            return exceptionResult;
+        }
+    }
+
+    /**
+     * List all contents of the title and get statistics such as size
+     * @param request GetContentListRequest
+     * @return GetContentListResult
+     */
+    public PlayFabResult<GetContentListResult> GetContentList(final GetContentListRequest request) {
+        try {
+            return PlayFabAdminAPI.privateGetContentListAsync(this, request);
+        } catch(Exception e) {
+            PlayFabResult<GetContentListResult> exceptionResult = new PlayFabResult<GetContentListResult>();
+            exceptionResult.Error = PlayFabHTTP.GeneratePfError(-1, PlayFabErrorCode.Unknown, e.getMessage(), null, null);
+            return exceptionResult;
+        }
+    }
+
+    /**
+     * Retrieves the pre-signed URL for uploading a content file. A subsequent HTTP PUT to the returned URL uploads the
+     * content. Also, please be aware that the Content service is specifically PlayFab's CDN offering, for which standard CDN
+     * rates apply.
+     * @param request GetContentUploadUrlRequest
+     * @return GetContentUploadUrlResult
+     */
+    public PlayFabResult<GetContentUploadUrlResult> GetContentUploadUrl(final GetContentUploadUrlRequest request) {
+        try {
+            return PlayFabAdminAPI.privateGetContentUploadUrlAsync(this, request);
+        } catch(Exception e) {
+            PlayFabResult<GetContentUploadUrlResult> exceptionResult = new PlayFabResult<GetContentUploadUrlResult>();
+            exceptionResult.Error = PlayFabHTTP.GeneratePfError(-1, PlayFabErrorCode.Unknown, e.getMessage(), null, null);
+            return exceptionResult;
+        }
+    }
+
+    /**
+     * Retrieves a download URL for the requested report
+     * @param request GetDataReportRequest
+     * @return GetDataReportResult
+     */
+    public PlayFabResult<GetDataReportResult> GetDataReport(final GetDataReportRequest request) {
+        try {
+            return PlayFabAdminAPI.privateGetDataReportAsync(this, request);
+        } catch(Exception e) {
+            PlayFabResult<GetDataReportResult> exceptionResult = new PlayFabResult<GetDataReportResult>();
+            exceptionResult.Error = PlayFabHTTP.GeneratePfError(-1, PlayFabErrorCode.Unknown, e.getMessage(), null, null);
+            return exceptionResult;
+        }
+    }
+
+    /**
+     * Retrieves the details for a specific completed session, including links to standard out and standard error logs
+     * @param request GetMatchmakerGameInfoRequest
+     * @return GetMatchmakerGameInfoResult
+     */
+    public PlayFabResult<GetMatchmakerGameInfoResult> GetMatchmakerGameInfo(final GetMatchmakerGameInfoRequest request) {
+        try {
+            return PlayFabAdminAPI.privateGetMatchmakerGameInfoAsync(this, request);
+        } catch(Exception e) {
+            PlayFabResult<GetMatchmakerGameInfoResult> exceptionResult = new PlayFabResult<GetMatchmakerGameInfoResult>();
+            exceptionResult.Error = PlayFabHTTP.GeneratePfError(-1, PlayFabErrorCode.Unknown, e.getMessage(), null, null);
+            return exceptionResult;
+        }
+    }
+
+    /**
+     * Retrieves the details of defined game modes for the specified game server executable
+     * @param request GetMatchmakerGameModesRequest
+     * @return GetMatchmakerGameModesResult
+     */
+    public PlayFabResult<GetMatchmakerGameModesResult> GetMatchmakerGameModes(final GetMatchmakerGameModesRequest request) {
+        try {
+            return PlayFabAdminAPI.privateGetMatchmakerGameModesAsync(this, request);
+        } catch(Exception e) {
+            PlayFabResult<GetMatchmakerGameModesResult> exceptionResult = new PlayFabResult<GetMatchmakerGameModesResult>();
+            exceptionResult.Error = PlayFabHTTP.GeneratePfError(-1, PlayFabErrorCode.Unknown, e.getMessage(), null, null);
+            return exceptionResult;
+        }
+    }
+
+    /**
+     * Get the list of titles that the player has played
+     * @param request GetPlayedTitleListRequest
+     * @return GetPlayedTitleListResult
+     */
+    public PlayFabResult<GetPlayedTitleListResult> GetPlayedTitleList(final GetPlayedTitleListRequest request) {
+        try {
+            return PlayFabAdminAPI.privateGetPlayedTitleListAsync(this, request);
+        } catch(Exception e) {
+            PlayFabResult<GetPlayedTitleListResult> exceptionResult = new PlayFabResult<GetPlayedTitleListResult>();
+            exceptionResult.Error = PlayFabHTTP.GeneratePfError(-1, PlayFabErrorCode.Unknown, e.getMessage(), null, null);
+            return exceptionResult;
+        }
+    }
+
+    /**
+     * Gets a player's ID from an auth token.
+     * @param request GetPlayerIdFromAuthTokenRequest
+     * @return GetPlayerIdFromAuthTokenResult
+     */
+    public PlayFabResult<GetPlayerIdFromAuthTokenResult> GetPlayerIdFromAuthToken(final GetPlayerIdFromAuthTokenRequest request) {
+        try {
+            return PlayFabAdminAPI.privateGetPlayerIdFromAuthTokenAsync(this, request);
+        } catch(Exception e) {
+            PlayFabResult<GetPlayerIdFromAuthTokenResult> exceptionResult = new PlayFabResult<GetPlayerIdFromAuthTokenResult>();
+            exceptionResult.Error = PlayFabHTTP.GeneratePfError(-1, PlayFabErrorCode.Unknown, e.getMessage(), null, null);
+            return exceptionResult;
+        }
+    }
+
+    /**
+     * Retrieves the player's profile
+     * @param request GetPlayerProfileRequest
+     * @return GetPlayerProfileResult
+     */
+    public PlayFabResult<GetPlayerProfileResult> GetPlayerProfile(final GetPlayerProfileRequest request) {
+        try {
+            return PlayFabAdminAPI.privateGetPlayerProfileAsync(this, request);
+        } catch(Exception e) {
+            PlayFabResult<GetPlayerProfileResult> exceptionResult = new PlayFabResult<GetPlayerProfileResult>();
+            exceptionResult.Error = PlayFabHTTP.GeneratePfError(-1, PlayFabErrorCode.Unknown, e.getMessage(), null, null);
+            return exceptionResult;
+        }
+    }
+
+    /**
+     * List all segments that a player currently belongs to at this moment in time.
+     * @param request GetPlayersSegmentsRequest
+     * @return GetPlayerSegmentsResult
+     */
+    public PlayFabResult<GetPlayerSegmentsResult> GetPlayerSegments(final GetPlayersSegmentsRequest request) {
+        try {
+            return PlayFabAdminAPI.privateGetPlayerSegmentsAsync(this, request);
+        } catch(Exception e) {
+            PlayFabResult<GetPlayerSegmentsResult> exceptionResult = new PlayFabResult<GetPlayerSegmentsResult>();
+            exceptionResult.Error = PlayFabHTTP.GeneratePfError(-1, PlayFabErrorCode.Unknown, e.getMessage(), null, null);
+            return exceptionResult;
+        }
+    }
+
+    /**
+     * Returns all Player Shared Secret Keys including disabled and expired.
+     * @param request GetPlayerSharedSecretsRequest
+     * @return GetPlayerSharedSecretsResult
+     */
+    public PlayFabResult<GetPlayerSharedSecretsResult> GetPlayerSharedSecrets(final GetPlayerSharedSecretsRequest request) {
+        try {
+            return PlayFabAdminAPI.privateGetPlayerSharedSecretsAsync(this, request);
+        } catch(Exception e) {
+            PlayFabResult<GetPlayerSharedSecretsResult> exceptionResult = new PlayFabResult<GetPlayerSharedSecretsResult>();
+            exceptionResult.Error = PlayFabHTTP.GeneratePfError(-1, PlayFabErrorCode.Unknown, e.getMessage(), null, null);
+            return exceptionResult;
+        }
+    }
+
+    /**
+     * Allows for paging through all players in a given segment. This API creates a snapshot of all player profiles that match
+     * the segment definition at the time of its creation and lives through the Total Seconds to Live, refreshing its life span
+     * on each subsequent use of the Continuation Token. Profiles that change during the course of paging will not be reflected
+     * in the results. AB Test segments are currently not supported by this operation. NOTE: This API is limited to being
+     * called 30 times in one minute. You will be returned an error if you exceed this threshold.
+     * @param request GetPlayersInSegmentRequest
+     * @return GetPlayersInSegmentResult
+     */
+    public PlayFabResult<GetPlayersInSegmentResult> GetPlayersInSegment(final GetPlayersInSegmentRequest request) {
+        try {
+            return PlayFabAdminAPI.privateGetPlayersInSegmentAsync(this, request);
+        } catch(Exception e) {
+            PlayFabResult<GetPlayersInSegmentResult> exceptionResult = new PlayFabResult<GetPlayersInSegmentResult>();
+            exceptionResult.Error = PlayFabHTTP.GeneratePfError(-1, PlayFabErrorCode.Unknown, e.getMessage(), null, null);
+            return exceptionResult;
+        }
+    }
+
+    /**
+     * Retrieves the configuration information for all player statistics defined in the title, regardless of whether they have
+     * a reset interval.
+     * @param request GetPlayerStatisticDefinitionsRequest
+     * @return GetPlayerStatisticDefinitionsResult
+     */
+    public PlayFabResult<GetPlayerStatisticDefinitionsResult> GetPlayerStatisticDefinitions(final GetPlayerStatisticDefinitionsRequest request) {
+        try {
+            return PlayFabAdminAPI.privateGetPlayerStatisticDefinitionsAsync(this, request);
+        } catch(Exception e) {
+            PlayFabResult<GetPlayerStatisticDefinitionsResult> exceptionResult = new PlayFabResult<GetPlayerStatisticDefinitionsResult>();
+            exceptionResult.Error = PlayFabHTTP.GeneratePfError(-1, PlayFabErrorCode.Unknown, e.getMessage(), null, null);
+            return exceptionResult;
+        }
+    }
+
+    /**
+     * Retrieves the information on the available versions of the specified statistic.
+     * @param request GetPlayerStatisticVersionsRequest
+     * @return GetPlayerStatisticVersionsResult
+     */
+    public PlayFabResult<GetPlayerStatisticVersionsResult> GetPlayerStatisticVersions(final GetPlayerStatisticVersionsRequest request) {
+        try {
+            return PlayFabAdminAPI.privateGetPlayerStatisticVersionsAsync(this, request);
+        } catch(Exception e) {
+            PlayFabResult<GetPlayerStatisticVersionsResult> exceptionResult = new PlayFabResult<GetPlayerStatisticVersionsResult>();
+            exceptionResult.Error = PlayFabHTTP.GeneratePfError(-1, PlayFabErrorCode.Unknown, e.getMessage(), null, null);
+            return exceptionResult;
+        }
+    }
+
+    /**
+     * Get all tags with a given Namespace (optional) from a player profile.
+     * @param request GetPlayerTagsRequest
+     * @return GetPlayerTagsResult
+     */
+    public PlayFabResult<GetPlayerTagsResult> GetPlayerTags(final GetPlayerTagsRequest request) {
+        try {
+            return PlayFabAdminAPI.privateGetPlayerTagsAsync(this, request);
+        } catch(Exception e) {
+            PlayFabResult<GetPlayerTagsResult> exceptionResult = new PlayFabResult<GetPlayerTagsResult>();
+            exceptionResult.Error = PlayFabHTTP.GeneratePfError(-1, PlayFabErrorCode.Unknown, e.getMessage(), null, null);
+            return exceptionResult;
+        }
+    }
+
+    /**
+     * Gets the requested policy.
+     * @param request GetPolicyRequest
+     * @return GetPolicyResponse
+     */
+    public PlayFabResult<GetPolicyResponse> GetPolicy(final GetPolicyRequest request) {
+        try {
+            return PlayFabAdminAPI.privateGetPolicyAsync(this, request);
+        } catch(Exception e) {
+            PlayFabResult<GetPolicyResponse> exceptionResult = new PlayFabResult<GetPolicyResponse>();
+            exceptionResult.Error = PlayFabHTTP.GeneratePfError(-1, PlayFabErrorCode.Unknown, e.getMessage(), null, null);
+            return exceptionResult;
+        }
+    }
+
+    /**
+     * Retrieves the key-value store of custom publisher settings
+     * @param request GetPublisherDataRequest
+     * @return GetPublisherDataResult
+     */
+    public PlayFabResult<GetPublisherDataResult> GetPublisherData(final GetPublisherDataRequest request) {
+        try {
+            return PlayFabAdminAPI.privateGetPublisherDataAsync(this, request);
+        } catch(Exception e) {
+            PlayFabResult<GetPublisherDataResult> exceptionResult = new PlayFabResult<GetPublisherDataResult>();
+            exceptionResult.Error = PlayFabHTTP.GeneratePfError(-1, PlayFabErrorCode.Unknown, e.getMessage(), null, null);
+            return exceptionResult;
+        }
+    }
+
+    /**
+     * Retrieves the random drop table configuration for the title
+     * @param request GetRandomResultTablesRequest
+     * @return GetRandomResultTablesResult
+     */
+    public PlayFabResult<GetRandomResultTablesResult> GetRandomResultTables(final GetRandomResultTablesRequest request) {
+        try {
+            return PlayFabAdminAPI.privateGetRandomResultTablesAsync(this, request);
+        } catch(Exception e) {
+            PlayFabResult<GetRandomResultTablesResult> exceptionResult = new PlayFabResult<GetRandomResultTablesResult>();
+            exceptionResult.Error = PlayFabHTTP.GeneratePfError(-1, PlayFabErrorCode.Unknown, e.getMessage(), null, null);
+            return exceptionResult;
+        }
+    }
+
+    /**
+     * Get detail information of a segment and its associated definition(s) and action(s) for a title.
+     * @param request GetSegmentsRequest
+     * @return GetSegmentsResponse
+     */
+    public PlayFabResult<GetSegmentsResponse> GetSegments(final GetSegmentsRequest request) {
+        try {
+            return PlayFabAdminAPI.privateGetSegmentsAsync(this, request);
+        } catch(Exception e) {
+            PlayFabResult<GetSegmentsResponse> exceptionResult = new PlayFabResult<GetSegmentsResponse>();
+            exceptionResult.Error = PlayFabHTTP.GeneratePfError(-1, PlayFabErrorCode.Unknown, e.getMessage(), null, null);
+            return exceptionResult;
+        }
+    }
+
+    /**
+     * Retrieves the build details for the specified game server executable
+     * @param request GetServerBuildInfoRequest
+     * @return GetServerBuildInfoResult
+     */
+    public PlayFabResult<GetServerBuildInfoResult> GetServerBuildInfo(final GetServerBuildInfoRequest request) {
+        try {
+            return PlayFabAdminAPI.privateGetServerBuildInfoAsync(this, request);
+        } catch(Exception e) {
+            PlayFabResult<GetServerBuildInfoResult> exceptionResult = new PlayFabResult<GetServerBuildInfoResult>();
+            exceptionResult.Error = PlayFabHTTP.GeneratePfError(-1, PlayFabErrorCode.Unknown, e.getMessage(), null, null);
+            return exceptionResult;
+        }
+    }
+
+    /**
+     * Retrieves the pre-authorized URL for uploading a game server package containing a build (does not enable the build for
+     * use - see AddServerBuild)
+     * @param request GetServerBuildUploadURLRequest
+     * @return GetServerBuildUploadURLResult
+     */
+    public PlayFabResult<GetServerBuildUploadURLResult> GetServerBuildUploadUrl(final GetServerBuildUploadURLRequest request) {
+        try {
+            return PlayFabAdminAPI.privateGetServerBuildUploadUrlAsync(this, request);
+        } catch(Exception e) {
+            PlayFabResult<GetServerBuildUploadURLResult> exceptionResult = new PlayFabResult<GetServerBuildUploadURLResult>();
+            exceptionResult.Error = PlayFabHTTP.GeneratePfError(-1, PlayFabErrorCode.Unknown, e.getMessage(), null, null);
+            return exceptionResult;
+        }
+    }
+
+    /**
+     * Retrieves the set of items defined for the specified store, including all prices defined
+     * @param request GetStoreItemsRequest
+     * @return GetStoreItemsResult
+     */
+    public PlayFabResult<GetStoreItemsResult> GetStoreItems(final GetStoreItemsRequest request) {
+        try {
+            return PlayFabAdminAPI.privateGetStoreItemsAsync(this, request);
+        } catch(Exception e) {
+            PlayFabResult<GetStoreItemsResult> exceptionResult = new PlayFabResult<GetStoreItemsResult>();
+            exceptionResult.Error = PlayFabHTTP.GeneratePfError(-1, PlayFabErrorCode.Unknown, e.getMessage(), null, null);
+            return exceptionResult;
+        }
+    }
+
+    /**
+     * Query for task instances by task, status, or time range.
+     * @param request GetTaskInstancesRequest
+     * @return GetTaskInstancesResult
+     */
+    public PlayFabResult<GetTaskInstancesResult> GetTaskInstances(final GetTaskInstancesRequest request) {
+        try {
+            return PlayFabAdminAPI.privateGetTaskInstancesAsync(this, request);
+        } catch(Exception e) {
+            PlayFabResult<GetTaskInstancesResult> exceptionResult = new PlayFabResult<GetTaskInstancesResult>();
+            exceptionResult.Error = PlayFabHTTP.GeneratePfError(-1, PlayFabErrorCode.Unknown, e.getMessage(), null, null);
+            return exceptionResult;
+        }
+    }
+
+    /**
+     * Get definition information on a specified task or all tasks within a title.
+     * @param request GetTasksRequest
+     * @return GetTasksResult
+     */
+    public PlayFabResult<GetTasksResult> GetTasks(final GetTasksRequest request) {
+        try {
+            return PlayFabAdminAPI.privateGetTasksAsync(this, request);
+        } catch(Exception e) {
+            PlayFabResult<GetTasksResult> exceptionResult = new PlayFabResult<GetTasksResult>();
+            exceptionResult.Error = PlayFabHTTP.GeneratePfError(-1, PlayFabErrorCode.Unknown, e.getMessage(), null, null);
+            return exceptionResult;
+        }
+    }
+
+    /**
+     * Retrieves the key-value store of custom title settings which can be read by the client
+     * @param request GetTitleDataRequest
+     * @return GetTitleDataResult
+     */
+    public PlayFabResult<GetTitleDataResult> GetTitleData(final GetTitleDataRequest request) {
+        try {
+            return PlayFabAdminAPI.privateGetTitleDataAsync(this, request);
+        } catch(Exception e) {
+            PlayFabResult<GetTitleDataResult> exceptionResult = new PlayFabResult<GetTitleDataResult>();
+            exceptionResult.Error = PlayFabHTTP.GeneratePfError(-1, PlayFabErrorCode.Unknown, e.getMessage(), null, null);
+            return exceptionResult;
+        }
+    }
+
+    /**
+     * Retrieves the key-value store of custom title settings which cannot be read by the client
+     * @param request GetTitleDataRequest
+     * @return GetTitleDataResult
+     */
+    public PlayFabResult<GetTitleDataResult> GetTitleInternalData(final GetTitleDataRequest request) {
+        try {
+            return PlayFabAdminAPI.privateGetTitleInternalDataAsync(this, request);
+        } catch(Exception e) {
+            PlayFabResult<GetTitleDataResult> exceptionResult = new PlayFabResult<GetTitleDataResult>();
+            exceptionResult.Error = PlayFabHTTP.GeneratePfError(-1, PlayFabErrorCode.Unknown, e.getMessage(), null, null);
+            return exceptionResult;
+        }
+    }
+
+    /**
+     * Retrieves the relevant details for a specified user, based upon a match against a supplied unique identifier
+     * @param request LookupUserAccountInfoRequest
+     * @return LookupUserAccountInfoResult
+     */
+    public PlayFabResult<LookupUserAccountInfoResult> GetUserAccountInfo(final LookupUserAccountInfoRequest request) {
+        try {
+            return PlayFabAdminAPI.privateGetUserAccountInfoAsync(this, request);
+        } catch(Exception e) {
+            PlayFabResult<LookupUserAccountInfoResult> exceptionResult = new PlayFabResult<LookupUserAccountInfoResult>();
+            exceptionResult.Error = PlayFabHTTP.GeneratePfError(-1, PlayFabErrorCode.Unknown, e.getMessage(), null, null);
+            return exceptionResult;
+        }
+    }
+
+    /**
+     * Gets all bans for a user.
+     * @param request GetUserBansRequest
+     * @return GetUserBansResult
+     */
+    public PlayFabResult<GetUserBansResult> GetUserBans(final GetUserBansRequest request) {
+        try {
+            return PlayFabAdminAPI.privateGetUserBansAsync(this, request);
+        } catch(Exception e) {
+            PlayFabResult<GetUserBansResult> exceptionResult = new PlayFabResult<GetUserBansResult>();
+            exceptionResult.Error = PlayFabHTTP.GeneratePfError(-1, PlayFabErrorCode.Unknown, e.getMessage(), null, null);
+            return exceptionResult;
+        }
+    }
+
+    /**
+     * Retrieves the title-specific custom data for the user which is readable and writable by the client
+     * @param request GetUserDataRequest
+     * @return GetUserDataResult
+     */
+    public PlayFabResult<GetUserDataResult> GetUserData(final GetUserDataRequest request) {
+        try {
+            return PlayFabAdminAPI.privateGetUserDataAsync(this, request);
+        } catch(Exception e) {
+            PlayFabResult<GetUserDataResult> exceptionResult = new PlayFabResult<GetUserDataResult>();
+            exceptionResult.Error = PlayFabHTTP.GeneratePfError(-1, PlayFabErrorCode.Unknown, e.getMessage(), null, null);
+            return exceptionResult;
+        }
+    }
+
+    /**
+     * Retrieves the title-specific custom data for the user which cannot be accessed by the client
+     * @param request GetUserDataRequest
+     * @return GetUserDataResult
+     */
+    public PlayFabResult<GetUserDataResult> GetUserInternalData(final GetUserDataRequest request) {
+        try {
+            return PlayFabAdminAPI.privateGetUserInternalDataAsync(this, request);
+        } catch(Exception e) {
+            PlayFabResult<GetUserDataResult> exceptionResult = new PlayFabResult<GetUserDataResult>();
+            exceptionResult.Error = PlayFabHTTP.GeneratePfError(-1, PlayFabErrorCode.Unknown, e.getMessage(), null, null);
+            return exceptionResult;
+        }
+    }
+
+    /**
+     * Retrieves the specified user's current inventory of virtual goods
+     * @param request GetUserInventoryRequest
+     * @return GetUserInventoryResult
+     */
+    public PlayFabResult<GetUserInventoryResult> GetUserInventory(final GetUserInventoryRequest request) {
+        try {
+            return PlayFabAdminAPI.privateGetUserInventoryAsync(this, request);
+        } catch(Exception e) {
+            PlayFabResult<GetUserInventoryResult> exceptionResult = new PlayFabResult<GetUserInventoryResult>();
+            exceptionResult.Error = PlayFabHTTP.GeneratePfError(-1, PlayFabErrorCode.Unknown, e.getMessage(), null, null);
+            return exceptionResult;
+        }
+    }
+
+    /**
+     * Retrieves the publisher-specific custom data for the user which is readable and writable by the client
+     * @param request GetUserDataRequest
+     * @return GetUserDataResult
+     */
+    public PlayFabResult<GetUserDataResult> GetUserPublisherData(final GetUserDataRequest request) {
+        try {
+            return PlayFabAdminAPI.privateGetUserPublisherDataAsync(this, request);
+        } catch(Exception e) {
+            PlayFabResult<GetUserDataResult> exceptionResult = new PlayFabResult<GetUserDataResult>();
+            exceptionResult.Error = PlayFabHTTP.GeneratePfError(-1, PlayFabErrorCode.Unknown, e.getMessage(), null, null);
+            return exceptionResult;
+        }
+    }
+
+    /**
+     * Retrieves the publisher-specific custom data for the user which cannot be accessed by the client
+     * @param request GetUserDataRequest
+     * @return GetUserDataResult
+     */
+    public PlayFabResult<GetUserDataResult> GetUserPublisherInternalData(final GetUserDataRequest request) {
+        try {
+            return PlayFabAdminAPI.privateGetUserPublisherInternalDataAsync(this, request);
+        } catch(Exception e) {
+            PlayFabResult<GetUserDataResult> exceptionResult = new PlayFabResult<GetUserDataResult>();
+            exceptionResult.Error = PlayFabHTTP.GeneratePfError(-1, PlayFabErrorCode.Unknown, e.getMessage(), null, null);
+            return exceptionResult;
+        }
+    }
+
+    /**
+     * Retrieves the publisher-specific custom data for the user which can only be read by the client
+     * @param request GetUserDataRequest
+     * @return GetUserDataResult
+     */
+    public PlayFabResult<GetUserDataResult> GetUserPublisherReadOnlyData(final GetUserDataRequest request) {
+        try {
+            return PlayFabAdminAPI.privateGetUserPublisherReadOnlyDataAsync(this, request);
+        } catch(Exception e) {
+            PlayFabResult<GetUserDataResult> exceptionResult = new PlayFabResult<GetUserDataResult>();
+            exceptionResult.Error = PlayFabHTTP.GeneratePfError(-1, PlayFabErrorCode.Unknown, e.getMessage(), null, null);
+            return exceptionResult;
+        }
+    }
+
+    /**
+     * Retrieves the title-specific custom data for the user which can only be read by the client
+     * @param request GetUserDataRequest
+     * @return GetUserDataResult
+     */
+    public PlayFabResult<GetUserDataResult> GetUserReadOnlyData(final GetUserDataRequest request) {
+        try {
+            return PlayFabAdminAPI.privateGetUserReadOnlyDataAsync(this, request);
+        } catch(Exception e) {
+            PlayFabResult<GetUserDataResult> exceptionResult = new PlayFabResult<GetUserDataResult>();
+            exceptionResult.Error = PlayFabHTTP.GeneratePfError(-1, PlayFabErrorCode.Unknown, e.getMessage(), null, null);
+            return exceptionResult;
+        }
+    }
+
+    /**
+     * Adds the specified items to the specified user inventories
+     * @param request GrantItemsToUsersRequest
+     * @return GrantItemsToUsersResult
+     */
+    public PlayFabResult<GrantItemsToUsersResult> GrantItemsToUsers(final GrantItemsToUsersRequest request) {
+        try {
+            return PlayFabAdminAPI.privateGrantItemsToUsersAsync(this, request);
+        } catch(Exception e) {
+            PlayFabResult<GrantItemsToUsersResult> exceptionResult = new PlayFabResult<GrantItemsToUsersResult>();
+            exceptionResult.Error = PlayFabHTTP.GeneratePfError(-1, PlayFabErrorCode.Unknown, e.getMessage(), null, null);
+            return exceptionResult;
+        }
+    }
+
+    /**
+     * Increases the global count for the given scarce resource.
+     * @param request IncrementLimitedEditionItemAvailabilityRequest
+     * @return IncrementLimitedEditionItemAvailabilityResult
+     */
+    public PlayFabResult<IncrementLimitedEditionItemAvailabilityResult> IncrementLimitedEditionItemAvailability(final IncrementLimitedEditionItemAvailabilityRequest request) {
+        try {
+            return PlayFabAdminAPI.privateIncrementLimitedEditionItemAvailabilityAsync(this, request);
+        } catch(Exception e) {
+            PlayFabResult<IncrementLimitedEditionItemAvailabilityResult> exceptionResult = new PlayFabResult<IncrementLimitedEditionItemAvailabilityResult>();
+            exceptionResult.Error = PlayFabHTTP.GeneratePfError(-1, PlayFabErrorCode.Unknown, e.getMessage(), null, null);
+            return exceptionResult;
+        }
+    }
+
+    /**
+     * Resets the indicated statistic, removing all player entries for it and backing up the old values.
+     * @param request IncrementPlayerStatisticVersionRequest
+     * @return IncrementPlayerStatisticVersionResult
+     */
+    public PlayFabResult<IncrementPlayerStatisticVersionResult> IncrementPlayerStatisticVersion(final IncrementPlayerStatisticVersionRequest request) {
+        try {
+            return PlayFabAdminAPI.privateIncrementPlayerStatisticVersionAsync(this, request);
+        } catch(Exception e) {
+            PlayFabResult<IncrementPlayerStatisticVersionResult> exceptionResult = new PlayFabResult<IncrementPlayerStatisticVersionResult>();
+            exceptionResult.Error = PlayFabHTTP.GeneratePfError(-1, PlayFabErrorCode.Unknown, e.getMessage(), null, null);
+            return exceptionResult;
+        }
+    }
+
+    /**
+     * Retrieves a list of all Open ID Connect providers registered to a title.
+     * @param request ListOpenIdConnectionRequest
+     * @return ListOpenIdConnectionResponse
+     */
+    public PlayFabResult<ListOpenIdConnectionResponse> ListOpenIdConnection(final ListOpenIdConnectionRequest request) {
+        try {
+            return PlayFabAdminAPI.privateListOpenIdConnectionAsync(this, request);
+        } catch(Exception e) {
+            PlayFabResult<ListOpenIdConnectionResponse> exceptionResult = new PlayFabResult<ListOpenIdConnectionResponse>();
+            exceptionResult.Error = PlayFabHTTP.GeneratePfError(-1, PlayFabErrorCode.Unknown, e.getMessage(), null, null);
+            return exceptionResult;
+        }
+    }
+
+    /**
+     * Retrieves the build details for all game server executables which are currently defined for the title
+     * @param request ListBuildsRequest
+     * @return ListBuildsResult
+     */
+    public PlayFabResult<ListBuildsResult> ListServerBuilds(final ListBuildsRequest request) {
+        try {
+            return PlayFabAdminAPI.privateListServerBuildsAsync(this, request);
+        } catch(Exception e) {
+            PlayFabResult<ListBuildsResult> exceptionResult = new PlayFabResult<ListBuildsResult>();
+            exceptionResult.Error = PlayFabHTTP.GeneratePfError(-1, PlayFabErrorCode.Unknown, e.getMessage(), null, null);
+            return exceptionResult;
+        }
+    }
+
+    /**
+     * Retuns the list of all defined virtual currencies for the title
+     * @param request ListVirtualCurrencyTypesRequest
+     * @return ListVirtualCurrencyTypesResult
+     */
+    public PlayFabResult<ListVirtualCurrencyTypesResult> ListVirtualCurrencyTypes(final ListVirtualCurrencyTypesRequest request) {
+        try {
+            return PlayFabAdminAPI.privateListVirtualCurrencyTypesAsync(this, request);
+        } catch(Exception e) {
+            PlayFabResult<ListVirtualCurrencyTypesResult> exceptionResult = new PlayFabResult<ListVirtualCurrencyTypesResult>();
+            exceptionResult.Error = PlayFabHTTP.GeneratePfError(-1, PlayFabErrorCode.Unknown, e.getMessage(), null, null);
+            return exceptionResult;
+        }
+    }
+
+    /**
+     * Updates the game server mode details for the specified game server executable
+     * @param request ModifyMatchmakerGameModesRequest
+     * @return ModifyMatchmakerGameModesResult
+     */
+    public PlayFabResult<ModifyMatchmakerGameModesResult> ModifyMatchmakerGameModes(final ModifyMatchmakerGameModesRequest request) {
+        try {
+            return PlayFabAdminAPI.privateModifyMatchmakerGameModesAsync(this, request);
+        } catch(Exception e) {
+            PlayFabResult<ModifyMatchmakerGameModesResult> exceptionResult = new PlayFabResult<ModifyMatchmakerGameModesResult>();
+            exceptionResult.Error = PlayFabHTTP.GeneratePfError(-1, PlayFabErrorCode.Unknown, e.getMessage(), null, null);
+            return exceptionResult;
+        }
+    }
+
+    /**
+     * Updates the build details for the specified game server executable
+     * @param request ModifyServerBuildRequest
+     * @return ModifyServerBuildResult
+     */
+    public PlayFabResult<ModifyServerBuildResult> ModifyServerBuild(final ModifyServerBuildRequest request) {
+        try {
+            return PlayFabAdminAPI.privateModifyServerBuildAsync(this, request);
+        } catch(Exception e) {
+            PlayFabResult<ModifyServerBuildResult> exceptionResult = new PlayFabResult<ModifyServerBuildResult>();
+            exceptionResult.Error = PlayFabHTTP.GeneratePfError(-1, PlayFabErrorCode.Unknown, e.getMessage(), null, null);
+            return exceptionResult;
+        }
+    }
+
+    /**
+     * Attempts to process an order refund through the original real money payment provider.
+     * @param request RefundPurchaseRequest
+     * @return RefundPurchaseResponse
+     */
+    public PlayFabResult<RefundPurchaseResponse> RefundPurchase(final RefundPurchaseRequest request) {
+        try {
+            return PlayFabAdminAPI.privateRefundPurchaseAsync(this, request);
+        } catch(Exception e) {
+            PlayFabResult<RefundPurchaseResponse> exceptionResult = new PlayFabResult<RefundPurchaseResponse>();
+            exceptionResult.Error = PlayFabHTTP.GeneratePfError(-1, PlayFabErrorCode.Unknown, e.getMessage(), null, null);
+            return exceptionResult;
+        }
+    }
+
+    /**
+     * Remove a given tag from a player profile. The tag's namespace is automatically generated based on the source of the tag.
+     * @param request RemovePlayerTagRequest
+     * @return RemovePlayerTagResult
+     */
+    public PlayFabResult<RemovePlayerTagResult> RemovePlayerTag(final RemovePlayerTagRequest request) {
+        try {
+            return PlayFabAdminAPI.privateRemovePlayerTagAsync(this, request);
+        } catch(Exception e) {
+            PlayFabResult<RemovePlayerTagResult> exceptionResult = new PlayFabResult<RemovePlayerTagResult>();
+            exceptionResult.Error = PlayFabHTTP.GeneratePfError(-1, PlayFabErrorCode.Unknown, e.getMessage(), null, null);
+            return exceptionResult;
+        }
+    }
+
+    /**
+     * Removes the game server executable specified from the set of those a client is permitted to request in a call to
+     * StartGame
+     * @param request RemoveServerBuildRequest
+     * @return RemoveServerBuildResult
+     */
+    public PlayFabResult<RemoveServerBuildResult> RemoveServerBuild(final RemoveServerBuildRequest request) {
+        try {
+            return PlayFabAdminAPI.privateRemoveServerBuildAsync(this, request);
+        } catch(Exception e) {
+            PlayFabResult<RemoveServerBuildResult> exceptionResult = new PlayFabResult<RemoveServerBuildResult>();
+            exceptionResult.Error = PlayFabHTTP.GeneratePfError(-1, PlayFabErrorCode.Unknown, e.getMessage(), null, null);
+            return exceptionResult;
+        }
+    }
+
+    /**
+     * Removes one or more virtual currencies from the set defined for the title.
+     * @param request RemoveVirtualCurrencyTypesRequest
+     * @return BlankResult
+     */
+    public PlayFabResult<BlankResult> RemoveVirtualCurrencyTypes(final RemoveVirtualCurrencyTypesRequest request) {
+        try {
+            return PlayFabAdminAPI.privateRemoveVirtualCurrencyTypesAsync(this, request);
+        } catch(Exception e) {
+            PlayFabResult<BlankResult> exceptionResult = new PlayFabResult<BlankResult>();
+            exceptionResult.Error = PlayFabHTTP.GeneratePfError(-1, PlayFabErrorCode.Unknown, e.getMessage(), null, null);
+            return exceptionResult;
+        }
+    }
+
+    /**
+     * Completely removes all statistics for the specified character, for the current game
+     * @param request ResetCharacterStatisticsRequest
+     * @return ResetCharacterStatisticsResult
+     */
+    public PlayFabResult<ResetCharacterStatisticsResult> ResetCharacterStatistics(final ResetCharacterStatisticsRequest request) {
+        try {
+            return PlayFabAdminAPI.privateResetCharacterStatisticsAsync(this, request);
+        } catch(Exception e) {
+            PlayFabResult<ResetCharacterStatisticsResult> exceptionResult = new PlayFabResult<ResetCharacterStatisticsResult>();
+            exceptionResult.Error = PlayFabHTTP.GeneratePfError(-1, PlayFabErrorCode.Unknown, e.getMessage(), null, null);
+            return exceptionResult;
+        }
+    }
+
+    /**
+     * Reset a player's password for a given title.
+     * @param request ResetPasswordRequest
+     * @return ResetPasswordResult
+     */
+    public PlayFabResult<ResetPasswordResult> ResetPassword(final ResetPasswordRequest request) {
+        try {
+            return PlayFabAdminAPI.privateResetPasswordAsync(this, request);
+        } catch(Exception e) {
+            PlayFabResult<ResetPasswordResult> exceptionResult = new PlayFabResult<ResetPasswordResult>();
+            exceptionResult.Error = PlayFabHTTP.GeneratePfError(-1, PlayFabErrorCode.Unknown, e.getMessage(), null, null);
+            return exceptionResult;
+        }
+    }
+
+    /**
+     * Completely removes all statistics for the specified user, for the current game
+     * @param request ResetUserStatisticsRequest
+     * @return ResetUserStatisticsResult
+     */
+    public PlayFabResult<ResetUserStatisticsResult> ResetUserStatistics(final ResetUserStatisticsRequest request) {
+        try {
+            return PlayFabAdminAPI.privateResetUserStatisticsAsync(this, request);
+        } catch(Exception e) {
+            PlayFabResult<ResetUserStatisticsResult> exceptionResult = new PlayFabResult<ResetUserStatisticsResult>();
+            exceptionResult.Error = PlayFabHTTP.GeneratePfError(-1, PlayFabErrorCode.Unknown, e.getMessage(), null, null);
+            return exceptionResult;
+        }
+    }
+
+    /**
+     * Attempts to resolve a dispute with the original order's payment provider.
+     * @param request ResolvePurchaseDisputeRequest
+     * @return ResolvePurchaseDisputeResponse
+     */
+    public PlayFabResult<ResolvePurchaseDisputeResponse> ResolvePurchaseDispute(final ResolvePurchaseDisputeRequest request) {
+        try {
+            return PlayFabAdminAPI.privateResolvePurchaseDisputeAsync(this, request);
+        } catch(Exception e) {
+            PlayFabResult<ResolvePurchaseDisputeResponse> exceptionResult = new PlayFabResult<ResolvePurchaseDisputeResponse>();
+            exceptionResult.Error = PlayFabHTTP.GeneratePfError(-1, PlayFabErrorCode.Unknown, e.getMessage(), null, null);
+            return exceptionResult;
+        }
+    }
+
+    /**
+     * Revoke all active bans for a user.
+     * @param request RevokeAllBansForUserRequest
+     * @return RevokeAllBansForUserResult
+     */
+    public PlayFabResult<RevokeAllBansForUserResult> RevokeAllBansForUser(final RevokeAllBansForUserRequest request) {
+        try {
+            return PlayFabAdminAPI.privateRevokeAllBansForUserAsync(this, request);
+        } catch(Exception e) {
+            PlayFabResult<RevokeAllBansForUserResult> exceptionResult = new PlayFabResult<RevokeAllBansForUserResult>();
+            exceptionResult.Error = PlayFabHTTP.GeneratePfError(-1, PlayFabErrorCode.Unknown, e.getMessage(), null, null);
+            return exceptionResult;
+        }
+    }
+
+    /**
+     * Revoke all active bans specified with BanId.
+     * @param request RevokeBansRequest
+     * @return RevokeBansResult
+     */
+    public PlayFabResult<RevokeBansResult> RevokeBans(final RevokeBansRequest request) {
+        try {
+            return PlayFabAdminAPI.privateRevokeBansAsync(this, request);
+        } catch(Exception e) {
+            PlayFabResult<RevokeBansResult> exceptionResult = new PlayFabResult<RevokeBansResult>();
+            exceptionResult.Error = PlayFabHTTP.GeneratePfError(-1, PlayFabErrorCode.Unknown, e.getMessage(), null, null);
+            return exceptionResult;
+        }
+    }
+
+    /**
+     * Revokes access to an item in a user's inventory
+     * @param request RevokeInventoryItemRequest
+     * @return RevokeInventoryResult
+     */
+    public PlayFabResult<RevokeInventoryResult> RevokeInventoryItem(final RevokeInventoryItemRequest request) {
+        try {
+            return PlayFabAdminAPI.privateRevokeInventoryItemAsync(this, request);
+        } catch(Exception e) {
+            PlayFabResult<RevokeInventoryResult> exceptionResult = new PlayFabResult<RevokeInventoryResult>();
+            exceptionResult.Error = PlayFabHTTP.GeneratePfError(-1, PlayFabErrorCode.Unknown, e.getMessage(), null, null);
+            return exceptionResult;
+        }
+    }
+
+    /**
+     * Revokes access for up to 25 items across multiple users and characters.
+     * @param request RevokeInventoryItemsRequest
+     * @return RevokeInventoryItemsResult
+     */
+    public PlayFabResult<RevokeInventoryItemsResult> RevokeInventoryItems(final RevokeInventoryItemsRequest request) {
+        try {
+            return PlayFabAdminAPI.privateRevokeInventoryItemsAsync(this, request);
+        } catch(Exception e) {
+            PlayFabResult<RevokeInventoryItemsResult> exceptionResult = new PlayFabResult<RevokeInventoryItemsResult>();
+            exceptionResult.Error = PlayFabHTTP.GeneratePfError(-1, PlayFabErrorCode.Unknown, e.getMessage(), null, null);
+            return exceptionResult;
+        }
+    }
+
+    /**
+     * Run a task immediately regardless of its schedule.
+     * @param request RunTaskRequest
+     * @return RunTaskResult
+     */
+    public PlayFabResult<RunTaskResult> RunTask(final RunTaskRequest request) {
+        try {
+            return PlayFabAdminAPI.privateRunTaskAsync(this, request);
+        } catch(Exception e) {
+            PlayFabResult<RunTaskResult> exceptionResult = new PlayFabResult<RunTaskResult>();
+            exceptionResult.Error = PlayFabHTTP.GeneratePfError(-1, PlayFabErrorCode.Unknown, e.getMessage(), null, null);
+            return exceptionResult;
+        }
+    }
+
+    /**
+     * Forces an email to be sent to the registered email address for the user's account, with a link allowing the user to
+     * change the password.If an account recovery email template ID is provided, an email using the custom email template will
+     * be used.
+     * @param request SendAccountRecoveryEmailRequest
+     * @return SendAccountRecoveryEmailResult
+     */
+    public PlayFabResult<SendAccountRecoveryEmailResult> SendAccountRecoveryEmail(final SendAccountRecoveryEmailRequest request) {
+        try {
+            return PlayFabAdminAPI.privateSendAccountRecoveryEmailAsync(this, request);
+        } catch(Exception e) {
+            PlayFabResult<SendAccountRecoveryEmailResult> exceptionResult = new PlayFabResult<SendAccountRecoveryEmailResult>();
+            exceptionResult.Error = PlayFabHTTP.GeneratePfError(-1, PlayFabErrorCode.Unknown, e.getMessage(), null, null);
+            return exceptionResult;
+        }
+    }
+
+    /**
+     * Creates the catalog configuration of all virtual goods for the specified catalog version
+     * @param request UpdateCatalogItemsRequest
+     * @return UpdateCatalogItemsResult
+     */
+    public PlayFabResult<UpdateCatalogItemsResult> SetCatalogItems(final UpdateCatalogItemsRequest request) {
+        try {
+            return PlayFabAdminAPI.privateSetCatalogItemsAsync(this, request);
+        } catch(Exception e) {
+            PlayFabResult<UpdateCatalogItemsResult> exceptionResult = new PlayFabResult<UpdateCatalogItemsResult>();
+            exceptionResult.Error = PlayFabHTTP.GeneratePfError(-1, PlayFabErrorCode.Unknown, e.getMessage(), null, null);
+            return exceptionResult;
+        }
+    }
+
+    /**
+     * Sets the override expiration for a membership subscription
+     * @param request SetMembershipOverrideRequest
+     * @return SetMembershipOverrideResult
+     */
+    public PlayFabResult<SetMembershipOverrideResult> SetMembershipOverride(final SetMembershipOverrideRequest request) {
+        try {
+            return PlayFabAdminAPI.privateSetMembershipOverrideAsync(this, request);
+        } catch(Exception e) {
+            PlayFabResult<SetMembershipOverrideResult> exceptionResult = new PlayFabResult<SetMembershipOverrideResult>();
+            exceptionResult.Error = PlayFabHTTP.GeneratePfError(-1, PlayFabErrorCode.Unknown, e.getMessage(), null, null);
+            return exceptionResult;
+        }
+    }
+
+    /**
+     * Sets or resets the player's secret. Player secrets are used to sign API requests.
+     * @param request SetPlayerSecretRequest
+     * @return SetPlayerSecretResult
+     */
+    public PlayFabResult<SetPlayerSecretResult> SetPlayerSecret(final SetPlayerSecretRequest request) {
+        try {
+            return PlayFabAdminAPI.privateSetPlayerSecretAsync(this, request);
+        } catch(Exception e) {
+            PlayFabResult<SetPlayerSecretResult> exceptionResult = new PlayFabResult<SetPlayerSecretResult>();
+            exceptionResult.Error = PlayFabHTTP.GeneratePfError(-1, PlayFabErrorCode.Unknown, e.getMessage(), null, null);
+            return exceptionResult;
+        }
+    }
+
+    /**
+     * Sets the currently published revision of a title Cloud Script
+     * @param request SetPublishedRevisionRequest
+     * @return SetPublishedRevisionResult
+     */
+    public PlayFabResult<SetPublishedRevisionResult> SetPublishedRevision(final SetPublishedRevisionRequest request) {
+        try {
+            return PlayFabAdminAPI.privateSetPublishedRevisionAsync(this, request);
+        } catch(Exception e) {
+            PlayFabResult<SetPublishedRevisionResult> exceptionResult = new PlayFabResult<SetPublishedRevisionResult>();
+            exceptionResult.Error = PlayFabHTTP.GeneratePfError(-1, PlayFabErrorCode.Unknown, e.getMessage(), null, null);
+            return exceptionResult;
+        }
+    }
+
+    /**
+     * Updates the key-value store of custom publisher settings
+     * @param request SetPublisherDataRequest
+     * @return SetPublisherDataResult
+     */
+    public PlayFabResult<SetPublisherDataResult> SetPublisherData(final SetPublisherDataRequest request) {
+        try {
+            return PlayFabAdminAPI.privateSetPublisherDataAsync(this, request);
+        } catch(Exception e) {
+            PlayFabResult<SetPublisherDataResult> exceptionResult = new PlayFabResult<SetPublisherDataResult>();
+            exceptionResult.Error = PlayFabHTTP.GeneratePfError(-1, PlayFabErrorCode.Unknown, e.getMessage(), null, null);
+            return exceptionResult;
+        }
+    }
+
+    /**
+     * Sets all the items in one virtual store
+     * @param request UpdateStoreItemsRequest
+     * @return UpdateStoreItemsResult
+     */
+    public PlayFabResult<UpdateStoreItemsResult> SetStoreItems(final UpdateStoreItemsRequest request) {
+        try {
+            return PlayFabAdminAPI.privateSetStoreItemsAsync(this, request);
+        } catch(Exception e) {
+            PlayFabResult<UpdateStoreItemsResult> exceptionResult = new PlayFabResult<UpdateStoreItemsResult>();
+            exceptionResult.Error = PlayFabHTTP.GeneratePfError(-1, PlayFabErrorCode.Unknown, e.getMessage(), null, null);
+            return exceptionResult;
+        }
+    }
+
+    /**
+     * Creates and updates the key-value store of custom title settings which can be read by the client
+     * @param request SetTitleDataRequest
+     * @return SetTitleDataResult
+     */
+    public PlayFabResult<SetTitleDataResult> SetTitleData(final SetTitleDataRequest request) {
+        try {
+            return PlayFabAdminAPI.privateSetTitleDataAsync(this, request);
+        } catch(Exception e) {
+            PlayFabResult<SetTitleDataResult> exceptionResult = new PlayFabResult<SetTitleDataResult>();
+            exceptionResult.Error = PlayFabHTTP.GeneratePfError(-1, PlayFabErrorCode.Unknown, e.getMessage(), null, null);
+            return exceptionResult;
+        }
+    }
+
+    /**
+     * Set and delete key-value pairs in a title data override instance.
+     * @param request SetTitleDataAndOverridesRequest
+     * @return SetTitleDataAndOverridesResult
+     */
+    public PlayFabResult<SetTitleDataAndOverridesResult> SetTitleDataAndOverrides(final SetTitleDataAndOverridesRequest request) {
+        try {
+            return PlayFabAdminAPI.privateSetTitleDataAndOverridesAsync(this, request);
+        } catch(Exception e) {
+            PlayFabResult<SetTitleDataAndOverridesResult> exceptionResult = new PlayFabResult<SetTitleDataAndOverridesResult>();
+            exceptionResult.Error = PlayFabHTTP.GeneratePfError(-1, PlayFabErrorCode.Unknown, e.getMessage(), null, null);
+            return exceptionResult;
+        }
+    }
+
+    /**
+     * Updates the key-value store of custom title settings which cannot be read by the client
+     * @param request SetTitleDataRequest
+     * @return SetTitleDataResult
+     */
+    public PlayFabResult<SetTitleDataResult> SetTitleInternalData(final SetTitleDataRequest request) {
+        try {
+            return PlayFabAdminAPI.privateSetTitleInternalDataAsync(this, request);
+        } catch(Exception e) {
+            PlayFabResult<SetTitleDataResult> exceptionResult = new PlayFabResult<SetTitleDataResult>();
+            exceptionResult.Error = PlayFabHTTP.GeneratePfError(-1, PlayFabErrorCode.Unknown, e.getMessage(), null, null);
+            return exceptionResult;
+        }
+    }
+
+    /**
+     * Sets the Amazon Resource Name (ARN) for iOS and Android push notifications. Documentation on the exact restrictions can
+     * be found at: http://docs.aws.amazon.com/sns/latest/api/API_CreatePlatformApplication.html. Currently, Amazon device
+     * Messaging is not supported.
+     * @param request SetupPushNotificationRequest
+     * @return SetupPushNotificationResult
+     */
+    public PlayFabResult<SetupPushNotificationResult> SetupPushNotification(final SetupPushNotificationRequest request) {
+        try {
+            return PlayFabAdminAPI.privateSetupPushNotificationAsync(this, request);
+        } catch(Exception e) {
+            PlayFabResult<SetupPushNotificationResult> exceptionResult = new PlayFabResult<SetupPushNotificationResult>();
+            exceptionResult.Error = PlayFabHTTP.GeneratePfError(-1, PlayFabErrorCode.Unknown, e.getMessage(), null, null);
+            return exceptionResult;
+        }
+    }
+
+    /**
+     * Decrements the specified virtual currency by the stated amount
+     * @param request SubtractUserVirtualCurrencyRequest
+     * @return ModifyUserVirtualCurrencyResult
+     */
+    public PlayFabResult<ModifyUserVirtualCurrencyResult> SubtractUserVirtualCurrency(final SubtractUserVirtualCurrencyRequest request) {
+        try {
+            return PlayFabAdminAPI.privateSubtractUserVirtualCurrencyAsync(this, request);
+        } catch(Exception e) {
+            PlayFabResult<ModifyUserVirtualCurrencyResult> exceptionResult = new PlayFabResult<ModifyUserVirtualCurrencyResult>();
+            exceptionResult.Error = PlayFabHTTP.GeneratePfError(-1, PlayFabErrorCode.Unknown, e.getMessage(), null, null);
+            return exceptionResult;
+        }
+    }
+
+    /**
+     * Updates information of a list of existing bans specified with Ban Ids.
+     * @param request UpdateBansRequest
+     * @return UpdateBansResult
+     */
+    public PlayFabResult<UpdateBansResult> UpdateBans(final UpdateBansRequest request) {
+        try {
+            return PlayFabAdminAPI.privateUpdateBansAsync(this, request);
+        } catch(Exception e) {
+            PlayFabResult<UpdateBansResult> exceptionResult = new PlayFabResult<UpdateBansResult>();
+            exceptionResult.Error = PlayFabHTTP.GeneratePfError(-1, PlayFabErrorCode.Unknown, e.getMessage(), null, null);
+            return exceptionResult;
+        }
+    }
+
+    /**
+     * Updates the catalog configuration for virtual goods in the specified catalog version
+     * @param request UpdateCatalogItemsRequest
+     * @return UpdateCatalogItemsResult
+     */
+    public PlayFabResult<UpdateCatalogItemsResult> UpdateCatalogItems(final UpdateCatalogItemsRequest request) {
+        try {
+            return PlayFabAdminAPI.privateUpdateCatalogItemsAsync(this, request);
+        } catch(Exception e) {
+            PlayFabResult<UpdateCatalogItemsResult> exceptionResult = new PlayFabResult<UpdateCatalogItemsResult>();
+            exceptionResult.Error = PlayFabHTTP.GeneratePfError(-1, PlayFabErrorCode.Unknown, e.getMessage(), null, null);
+            return exceptionResult;
+        }
+    }
+
+    /**
+     * Creates a new Cloud Script revision and uploads source code to it. Note that at this time, only one file should be
+     * submitted in the revision.
+     * @param request UpdateCloudScriptRequest
+     * @return UpdateCloudScriptResult
+     */
+    public PlayFabResult<UpdateCloudScriptResult> UpdateCloudScript(final UpdateCloudScriptRequest request) {
+        try {
+            return PlayFabAdminAPI.privateUpdateCloudScriptAsync(this, request);
+        } catch(Exception e) {
+            PlayFabResult<UpdateCloudScriptResult> exceptionResult = new PlayFabResult<UpdateCloudScriptResult>();
+            exceptionResult.Error = PlayFabHTTP.GeneratePfError(-1, PlayFabErrorCode.Unknown, e.getMessage(), null, null);
+            return exceptionResult;
+        }
+    }
+
+    /**
+     * Modifies data and credentials for an existing relationship between a title and an Open ID Connect provider
+     * @param request UpdateOpenIdConnectionRequest
+     * @return EmptyResponse
+     */
+    public PlayFabResult<EmptyResponse> UpdateOpenIdConnection(final UpdateOpenIdConnectionRequest request) {
+        try {
+            return PlayFabAdminAPI.privateUpdateOpenIdConnectionAsync(this, request);
+        } catch(Exception e) {
+            PlayFabResult<EmptyResponse> exceptionResult = new PlayFabResult<EmptyResponse>();
+            exceptionResult.Error = PlayFabHTTP.GeneratePfError(-1, PlayFabErrorCode.Unknown, e.getMessage(), null, null);
+            return exceptionResult;
+        }
+    }
+
+    /**
+     * Updates a existing Player Shared Secret Key. It may take up to 5 minutes for this update to become generally available
+     * after this API returns.
+     * @param request UpdatePlayerSharedSecretRequest
+     * @return UpdatePlayerSharedSecretResult
+     */
+    public PlayFabResult<UpdatePlayerSharedSecretResult> UpdatePlayerSharedSecret(final UpdatePlayerSharedSecretRequest request) {
+        try {
+            return PlayFabAdminAPI.privateUpdatePlayerSharedSecretAsync(this, request);
+        } catch(Exception e) {
+            PlayFabResult<UpdatePlayerSharedSecretResult> exceptionResult = new PlayFabResult<UpdatePlayerSharedSecretResult>();
+            exceptionResult.Error = PlayFabHTTP.GeneratePfError(-1, PlayFabErrorCode.Unknown, e.getMessage(), null, null);
+            return exceptionResult;
+        }
+    }
+
+    /**
+     * Updates a player statistic configuration for the title, optionally allowing the developer to specify a reset interval.
+     * @param request UpdatePlayerStatisticDefinitionRequest
+     * @return UpdatePlayerStatisticDefinitionResult
+     */
+    public PlayFabResult<UpdatePlayerStatisticDefinitionResult> UpdatePlayerStatisticDefinition(final UpdatePlayerStatisticDefinitionRequest request) {
+        try {
+            return PlayFabAdminAPI.privateUpdatePlayerStatisticDefinitionAsync(this, request);
+        } catch(Exception e) {
+            PlayFabResult<UpdatePlayerStatisticDefinitionResult> exceptionResult = new PlayFabResult<UpdatePlayerStatisticDefinitionResult>();
+            exceptionResult.Error = PlayFabHTTP.GeneratePfError(-1, PlayFabErrorCode.Unknown, e.getMessage(), null, null);
+            return exceptionResult;
+        }
+    }
+
+    /**
+     * Changes a policy for a title
+     * @param request UpdatePolicyRequest
+     * @return UpdatePolicyResponse
+     */
+    public PlayFabResult<UpdatePolicyResponse> UpdatePolicy(final UpdatePolicyRequest request) {
+        try {
+            return PlayFabAdminAPI.privateUpdatePolicyAsync(this, request);
+        } catch(Exception e) {
+            PlayFabResult<UpdatePolicyResponse> exceptionResult = new PlayFabResult<UpdatePolicyResponse>();
+            exceptionResult.Error = PlayFabHTTP.GeneratePfError(-1, PlayFabErrorCode.Unknown, e.getMessage(), null, null);
+            return exceptionResult;
+        }
+    }
+
+    /**
+     * Updates the random drop table configuration for the title
+     * @param request UpdateRandomResultTablesRequest
+     * @return UpdateRandomResultTablesResult
+     */
+    public PlayFabResult<UpdateRandomResultTablesResult> UpdateRandomResultTables(final UpdateRandomResultTablesRequest request) {
+        try {
+            return PlayFabAdminAPI.privateUpdateRandomResultTablesAsync(this, request);
+        } catch(Exception e) {
+            PlayFabResult<UpdateRandomResultTablesResult> exceptionResult = new PlayFabResult<UpdateRandomResultTablesResult>();
+            exceptionResult.Error = PlayFabHTTP.GeneratePfError(-1, PlayFabErrorCode.Unknown, e.getMessage(), null, null);
+            return exceptionResult;
+        }
+    }
+
+    /**
+     * Updates an existing player segment and its associated definition(s) and action(s) for a title.
+     * @param request UpdateSegmentRequest
+     * @return UpdateSegmentResponse
+     */
+    public PlayFabResult<UpdateSegmentResponse> UpdateSegment(final UpdateSegmentRequest request) {
+        try {
+            return PlayFabAdminAPI.privateUpdateSegmentAsync(this, request);
+        } catch(Exception e) {
+            PlayFabResult<UpdateSegmentResponse> exceptionResult = new PlayFabResult<UpdateSegmentResponse>();
+            exceptionResult.Error = PlayFabHTTP.GeneratePfError(-1, PlayFabErrorCode.Unknown, e.getMessage(), null, null);
+            return exceptionResult;
+        }
+    }
+
+    /**
+     * Updates an existing virtual item store with new or modified items
+     * @param request UpdateStoreItemsRequest
+     * @return UpdateStoreItemsResult
+     */
+    public PlayFabResult<UpdateStoreItemsResult> UpdateStoreItems(final UpdateStoreItemsRequest request) {
+        try {
+            return PlayFabAdminAPI.privateUpdateStoreItemsAsync(this, request);
+        } catch(Exception e) {
+            PlayFabResult<UpdateStoreItemsResult> exceptionResult = new PlayFabResult<UpdateStoreItemsResult>();
+            exceptionResult.Error = PlayFabHTTP.GeneratePfError(-1, PlayFabErrorCode.Unknown, e.getMessage(), null, null);
+            return exceptionResult;
+        }
+    }
+
+    /**
+     * Update an existing task.
+     * @param request UpdateTaskRequest
+     * @return EmptyResponse
+     */
+    public PlayFabResult<EmptyResponse> UpdateTask(final UpdateTaskRequest request) {
+        try {
+            return PlayFabAdminAPI.privateUpdateTaskAsync(this, request);
+        } catch(Exception e) {
+            PlayFabResult<EmptyResponse> exceptionResult = new PlayFabResult<EmptyResponse>();
+            exceptionResult.Error = PlayFabHTTP.GeneratePfError(-1, PlayFabErrorCode.Unknown, e.getMessage(), null, null);
+            return exceptionResult;
+        }
+    }
+
+    /**
+     * Updates the title-specific custom data for the user which is readable and writable by the client
+     * @param request UpdateUserDataRequest
+     * @return UpdateUserDataResult
+     */
+    public PlayFabResult<UpdateUserDataResult> UpdateUserData(final UpdateUserDataRequest request) {
+        try {
+            return PlayFabAdminAPI.privateUpdateUserDataAsync(this, request);
+        } catch(Exception e) {
+            PlayFabResult<UpdateUserDataResult> exceptionResult = new PlayFabResult<UpdateUserDataResult>();
+            exceptionResult.Error = PlayFabHTTP.GeneratePfError(-1, PlayFabErrorCode.Unknown, e.getMessage(), null, null);
+            return exceptionResult;
+        }
+    }
+
+    /**
+     * Updates the title-specific custom data for the user which cannot be accessed by the client
+     * @param request UpdateUserInternalDataRequest
+     * @return UpdateUserDataResult
+     */
+    public PlayFabResult<UpdateUserDataResult> UpdateUserInternalData(final UpdateUserInternalDataRequest request) {
+        try {
+            return PlayFabAdminAPI.privateUpdateUserInternalDataAsync(this, request);
+        } catch(Exception e) {
+            PlayFabResult<UpdateUserDataResult> exceptionResult = new PlayFabResult<UpdateUserDataResult>();
+            exceptionResult.Error = PlayFabHTTP.GeneratePfError(-1, PlayFabErrorCode.Unknown, e.getMessage(), null, null);
+            return exceptionResult;
+        }
+    }
+
+    /**
+     * Updates the publisher-specific custom data for the user which is readable and writable by the client
+     * @param request UpdateUserDataRequest
+     * @return UpdateUserDataResult
+     */
+    public PlayFabResult<UpdateUserDataResult> UpdateUserPublisherData(final UpdateUserDataRequest request) {
+        try {
+            return PlayFabAdminAPI.privateUpdateUserPublisherDataAsync(this, request);
+        } catch(Exception e) {
+            PlayFabResult<UpdateUserDataResult> exceptionResult = new PlayFabResult<UpdateUserDataResult>();
+            exceptionResult.Error = PlayFabHTTP.GeneratePfError(-1, PlayFabErrorCode.Unknown, e.getMessage(), null, null);
+            return exceptionResult;
+        }
+    }
+
+    /**
+     * Updates the publisher-specific custom data for the user which cannot be accessed by the client
+     * @param request UpdateUserInternalDataRequest
+     * @return UpdateUserDataResult
+     */
+    public PlayFabResult<UpdateUserDataResult> UpdateUserPublisherInternalData(final UpdateUserInternalDataRequest request) {
+        try {
+            return PlayFabAdminAPI.privateUpdateUserPublisherInternalDataAsync(this, request);
+        } catch(Exception e) {
+            PlayFabResult<UpdateUserDataResult> exceptionResult = new PlayFabResult<UpdateUserDataResult>();
+            exceptionResult.Error = PlayFabHTTP.GeneratePfError(-1, PlayFabErrorCode.Unknown, e.getMessage(), null, null);
+            return exceptionResult;
+        }
+    }
+
+    /**
+     * Updates the publisher-specific custom data for the user which can only be read by the client
+     * @param request UpdateUserDataRequest
+     * @return UpdateUserDataResult
+     */
+    public PlayFabResult<UpdateUserDataResult> UpdateUserPublisherReadOnlyData(final UpdateUserDataRequest request) {
+        try {
+            return PlayFabAdminAPI.privateUpdateUserPublisherReadOnlyDataAsync(this, request);
+        } catch(Exception e) {
+            PlayFabResult<UpdateUserDataResult> exceptionResult = new PlayFabResult<UpdateUserDataResult>();
+            exceptionResult.Error = PlayFabHTTP.GeneratePfError(-1, PlayFabErrorCode.Unknown, e.getMessage(), null, null);
+            return exceptionResult;
+        }
+    }
+
+    /**
+     * Updates the title-specific custom data for the user which can only be read by the client
+     * @param request UpdateUserDataRequest
+     * @return UpdateUserDataResult
+     */
+    public PlayFabResult<UpdateUserDataResult> UpdateUserReadOnlyData(final UpdateUserDataRequest request) {
+        try {
+            return PlayFabAdminAPI.privateUpdateUserReadOnlyDataAsync(this, request);
+        } catch(Exception e) {
+            PlayFabResult<UpdateUserDataResult> exceptionResult = new PlayFabResult<UpdateUserDataResult>();
+            exceptionResult.Error = PlayFabHTTP.GeneratePfError(-1, PlayFabErrorCode.Unknown, e.getMessage(), null, null);
+            return exceptionResult;
+        }
+    }
+
+    /**
+     * Updates the title specific display name for a user
+     * @param request UpdateUserTitleDisplayNameRequest
+     * @return UpdateUserTitleDisplayNameResult
+     */
+    public PlayFabResult<UpdateUserTitleDisplayNameResult> UpdateUserTitleDisplayName(final UpdateUserTitleDisplayNameRequest request) {
+        try {
+            return PlayFabAdminAPI.privateUpdateUserTitleDisplayNameAsync(this, request);
+        } catch(Exception e) {
+            PlayFabResult<UpdateUserTitleDisplayNameResult> exceptionResult = new PlayFabResult<UpdateUserTitleDisplayNameResult>();
+            exceptionResult.Error = PlayFabHTTP.GeneratePfError(-1, PlayFabErrorCode.Unknown, e.getMessage(), null, null);
+            return exceptionResult;
+        }
+    }
+
+    /**
+     * @return Non-blocking versions of every call, made with this object's context and started on PlayFabSettings.AsyncExecutor
+     */
+    public Async async() {
+        return async;
+    }
+
+    /**
+     * Non-blocking versions of the PlayFabAdminInstanceAPI calls. Each call is already running when its PlayFabFuture is returned.
+     */
+    public class Async {
+        private Async() {
+        }
+
+        /**
+         * Abort an ongoing task instance.
+         * @param request AbortTaskInstanceRequest
+         * @return Running future that will complete with EmptyResponse
+         */
+        public PlayFabFuture<PlayFabResult<EmptyResponse>> AbortTaskInstance(final AbortTaskInstanceRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<EmptyResponse>>() {
+                public PlayFabResult<EmptyResponse> call() throws Exception {
+                    return PlayFabAdminAPI.privateAbortTaskInstanceAsync(PlayFabAdminInstanceAPI.this, request);
+                }
+            });
+        }
+
+        /**
+         * Update news item to include localized version
+         * @param request AddLocalizedNewsRequest
+         * @return Running future that will complete with AddLocalizedNewsResult
+         */
+        public PlayFabFuture<PlayFabResult<AddLocalizedNewsResult>> AddLocalizedNews(final AddLocalizedNewsRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<AddLocalizedNewsResult>>() {
+                public PlayFabResult<AddLocalizedNewsResult> call() throws Exception {
+                    return PlayFabAdminAPI.privateAddLocalizedNewsAsync(PlayFabAdminInstanceAPI.this, request);
+                }
+            });
+        }
+
+        /**
+         * Adds a new news item to the title's news feed
+         * @param request AddNewsRequest
+         * @return Running future that will complete with AddNewsResult
+         */
+        public PlayFabFuture<PlayFabResult<AddNewsResult>> AddNews(final AddNewsRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<AddNewsResult>>() {
+                public PlayFabResult<AddNewsResult> call() throws Exception {
+                    return PlayFabAdminAPI.privateAddNewsAsync(PlayFabAdminInstanceAPI.this, request);
+                }
+            });
+        }
+
+        /**
+         * Adds a given tag to a player profile. The tag's namespace is automatically generated based on the source of the tag.
+         * @param request AddPlayerTagRequest
+         * @return Running future that will complete with AddPlayerTagResult
+         */
+        public PlayFabFuture<PlayFabResult<AddPlayerTagResult>> AddPlayerTag(final AddPlayerTagRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<AddPlayerTagResult>>() {
+                public PlayFabResult<AddPlayerTagResult> call() throws Exception {
+                    return PlayFabAdminAPI.privateAddPlayerTagAsync(PlayFabAdminInstanceAPI.this, request);
+                }
+            });
+        }
+
+        /**
+         * Adds the game server executable specified (previously uploaded - see GetServerBuildUploadUrl) to the set of those a
+         * client is permitted to request in a call to StartGame
+         * @param request AddServerBuildRequest
+         * @return Running future that will complete with AddServerBuildResult
+         */
+        public PlayFabFuture<PlayFabResult<AddServerBuildResult>> AddServerBuild(final AddServerBuildRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<AddServerBuildResult>>() {
+                public PlayFabResult<AddServerBuildResult> call() throws Exception {
+                    return PlayFabAdminAPI.privateAddServerBuildAsync(PlayFabAdminInstanceAPI.this, request);
+                }
+            });
+        }
+
+        /**
+         * Increments the specified virtual currency by the stated amount
+         * @param request AddUserVirtualCurrencyRequest
+         * @return Running future that will complete with ModifyUserVirtualCurrencyResult
+         */
+        public PlayFabFuture<PlayFabResult<ModifyUserVirtualCurrencyResult>> AddUserVirtualCurrency(final AddUserVirtualCurrencyRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<ModifyUserVirtualCurrencyResult>>() {
+                public PlayFabResult<ModifyUserVirtualCurrencyResult> call() throws Exception {
+                    return PlayFabAdminAPI.privateAddUserVirtualCurrencyAsync(PlayFabAdminInstanceAPI.this, request);
+                }
+            });
+        }
+
+        /**
+         * Adds one or more virtual currencies to the set defined for the title. Virtual Currencies have a maximum value of
+         * 2,147,483,647 when granted to a player. Any value over that will be discarded.
+         * @param request AddVirtualCurrencyTypesRequest
+         * @return Running future that will complete with BlankResult
+         */
+        public PlayFabFuture<PlayFabResult<BlankResult>> AddVirtualCurrencyTypes(final AddVirtualCurrencyTypesRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<BlankResult>>() {
+                public PlayFabResult<BlankResult> call() throws Exception {
+                    return PlayFabAdminAPI.privateAddVirtualCurrencyTypesAsync(PlayFabAdminInstanceAPI.this, request);
+                }
+            });
+        }
+
+        /**
+         * Bans users by PlayFab ID with optional IP address, or MAC address for the provided game.
+         * @param request BanUsersRequest
+         * @return Running future that will complete with BanUsersResult
+         */
+        public PlayFabFuture<PlayFabResult<BanUsersResult>> BanUsers(final BanUsersRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<BanUsersResult>>() {
+                public PlayFabResult<BanUsersResult> call() throws Exception {
+                    return PlayFabAdminAPI.privateBanUsersAsync(PlayFabAdminInstanceAPI.this, request);
+                }
+            });
+        }
+
+        /**
+         * Checks the global count for the limited edition item.
+         * @param request CheckLimitedEditionItemAvailabilityRequest
+         * @return Running future that will complete with CheckLimitedEditionItemAvailabilityResult
+         */
+        public PlayFabFuture<PlayFabResult<CheckLimitedEditionItemAvailabilityResult>> CheckLimitedEditionItemAvailability(final CheckLimitedEditionItemAvailabilityRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<CheckLimitedEditionItemAvailabilityResult>>() {
+                public PlayFabResult<CheckLimitedEditionItemAvailabilityResult> call() throws Exception {
+                    return PlayFabAdminAPI.privateCheckLimitedEditionItemAvailabilityAsync(PlayFabAdminInstanceAPI.this, request);
+                }
+            });
+        }
+
+        /**
+         * Create an ActionsOnPlayersInSegment task, which iterates through all players in a segment to execute action.
+         * @param request CreateActionsOnPlayerSegmentTaskRequest
+         * @return Running future that will complete with CreateTaskResult
+         */
+        public PlayFabFuture<PlayFabResult<CreateTaskResult>> CreateActionsOnPlayersInSegmentTask(final CreateActionsOnPlayerSegmentTaskRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<CreateTaskResult>>() {
+                public PlayFabResult<CreateTaskResult> call() throws Exception {
+                    return PlayFabAdminAPI.privateCreateActionsOnPlayersInSegmentTaskAsync(PlayFabAdminInstanceAPI.this, request);
+                }
+            });
+        }
+
+        /**
+         * Create a CloudScript task, which can run a CloudScript on a schedule.
+         * @param request CreateCloudScriptTaskRequest
+         * @return Running future that will complete with CreateTaskResult
+         */
+        public PlayFabFuture<PlayFabResult<CreateTaskResult>> CreateCloudScriptTask(final CreateCloudScriptTaskRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<CreateTaskResult>>() {
+                public PlayFabResult<CreateTaskResult> call() throws Exception {
+                    return PlayFabAdminAPI.privateCreateCloudScriptTaskAsync(PlayFabAdminInstanceAPI.this, request);
+                }
+            });
+        }
+
+        /**
+         * Create a Insights Scheduled Scaling task, which can scale Insights Performance Units on a schedule
+         * @param request CreateInsightsScheduledScalingTaskRequest
+         * @return Running future that will complete with CreateTaskResult
+         */
+        public PlayFabFuture<PlayFabResult<CreateTaskResult>> CreateInsightsScheduledScalingTask(final CreateInsightsScheduledScalingTaskRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<CreateTaskResult>>() {
+                public PlayFabResult<CreateTaskResult> call() throws Exception {
+                    return PlayFabAdminAPI.privateCreateInsightsScheduledScalingTaskAsync(PlayFabAdminInstanceAPI.this, request);
+                }
+            });
+        }
+
+        /**
+         * Registers a relationship between a title and an Open ID Connect provider.
+         * @param request CreateOpenIdConnectionRequest
+         * @return Running future that will complete with EmptyResponse
+         */
+        public PlayFabFuture<PlayFabResult<EmptyResponse>> CreateOpenIdConnection(final CreateOpenIdConnectionRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<EmptyResponse>>() {
+                public PlayFabResult<EmptyResponse> call() throws Exception {
+                    return PlayFabAdminAPI.privateCreateOpenIdConnectionAsync(PlayFabAdminInstanceAPI.this, request);
+                }
+            });
+        }
+
+        /**
+         * Creates a new Player Shared Secret Key. It may take up to 5 minutes for this key to become generally available after
+         * this API returns.
+         * @param request CreatePlayerSharedSecretRequest
+         * @return Running future that will complete with CreatePlayerSharedSecretResult
+         */
+        public PlayFabFuture<PlayFabResult<CreatePlayerSharedSecretResult>> CreatePlayerSharedSecret(final CreatePlayerSharedSecretRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<CreatePlayerSharedSecretResult>>() {
+                public PlayFabResult<CreatePlayerSharedSecretResult> call() throws Exception {
+                    return PlayFabAdminAPI.privateCreatePlayerSharedSecretAsync(PlayFabAdminInstanceAPI.this, request);
+                }
+            });
+        }
+
+        /**
+         * Adds a new player statistic configuration to the title, optionally allowing the developer to specify a reset interval
+         * and an aggregation method.
+         * @param request CreatePlayerStatisticDefinitionRequest
+         * @return Running future that will complete with CreatePlayerStatisticDefinitionResult
+         */
+        public PlayFabFuture<PlayFabResult<CreatePlayerStatisticDefinitionResult>> CreatePlayerStatisticDefinition(final CreatePlayerStatisticDefinitionRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<CreatePlayerStatisticDefinitionResult>>() {
+                public PlayFabResult<CreatePlayerStatisticDefinitionResult> call() throws Exception {
+                    return PlayFabAdminAPI.privateCreatePlayerStatisticDefinitionAsync(PlayFabAdminInstanceAPI.this, request);
+                }
+            });
+        }
+
+        /**
+         * Creates a new player segment by defining the conditions on player properties. Also, create actions to target the player
+         * segments for a title.
+         * @param request CreateSegmentRequest
+         * @return Running future that will complete with CreateSegmentResponse
+         */
+        public PlayFabFuture<PlayFabResult<CreateSegmentResponse>> CreateSegment(final CreateSegmentRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<CreateSegmentResponse>>() {
+                public PlayFabResult<CreateSegmentResponse> call() throws Exception {
+                    return PlayFabAdminAPI.privateCreateSegmentAsync(PlayFabAdminInstanceAPI.this, request);
+                }
+            });
+        }
+
+        /**
+         * Delete a content file from the title. When deleting a file that does not exist, it returns success.
+         * @param request DeleteContentRequest
+         * @return Running future that will complete with BlankResult
+         */
+        public PlayFabFuture<PlayFabResult<BlankResult>> DeleteContent(final DeleteContentRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<BlankResult>>() {
+                public PlayFabResult<BlankResult> call() throws Exception {
+                    return PlayFabAdminAPI.privateDeleteContentAsync(PlayFabAdminInstanceAPI.this, request);
+                }
+            });
+        }
+
+        /**
+         * Removes a master player account entirely from all titles and deletes all associated data
+         * @param request DeleteMasterPlayerAccountRequest
+         * @return Running future that will complete with DeleteMasterPlayerAccountResult
+         */
+        public PlayFabFuture<PlayFabResult<DeleteMasterPlayerAccountResult>> DeleteMasterPlayerAccount(final DeleteMasterPlayerAccountRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<DeleteMasterPlayerAccountResult>>() {
+                public PlayFabResult<DeleteMasterPlayerAccountResult> call() throws Exception {
+                    return PlayFabAdminAPI.privateDeleteMasterPlayerAccountAsync(PlayFabAdminInstanceAPI.this, request);
+                }
+            });
+        }
+
+        /**
+         * Deletes a player's subscription
+         * @param request DeleteMembershipSubscriptionRequest
+         * @return Running future that will complete with DeleteMembershipSubscriptionResult
+         */
+        public PlayFabFuture<PlayFabResult<DeleteMembershipSubscriptionResult>> DeleteMembershipSubscription(final DeleteMembershipSubscriptionRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<DeleteMembershipSubscriptionResult>>() {
+                public PlayFabResult<DeleteMembershipSubscriptionResult> call() throws Exception {
+                    return PlayFabAdminAPI.privateDeleteMembershipSubscriptionAsync(PlayFabAdminInstanceAPI.this, request);
+                }
+            });
+        }
+
+        /**
+         * Removes a relationship between a title and an OpenID Connect provider.
+         * @param request DeleteOpenIdConnectionRequest
+         * @return Running future that will complete with EmptyResponse
+         */
+        public PlayFabFuture<PlayFabResult<EmptyResponse>> DeleteOpenIdConnection(final DeleteOpenIdConnectionRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<EmptyResponse>>() {
+                public PlayFabResult<EmptyResponse> call() throws Exception {
+                    return PlayFabAdminAPI.privateDeleteOpenIdConnectionAsync(PlayFabAdminInstanceAPI.this, request);
+                }
+            });
+        }
+
+        /**
+         * Removes a user's player account from a title and deletes all associated data
+         * @param request DeletePlayerRequest
+         * @return Running future that will complete with DeletePlayerResult
+         */
+        public PlayFabFuture<PlayFabResult<DeletePlayerResult>> DeletePlayer(final DeletePlayerRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<DeletePlayerResult>>() {
+                public PlayFabResult<DeletePlayerResult> call() throws Exception {
+                    return PlayFabAdminAPI.privateDeletePlayerAsync(PlayFabAdminInstanceAPI.this, request);
+                }
+            });
+        }
+
+        /**
+         * Deletes an existing Player Shared Secret Key. It may take up to 5 minutes for this delete to be reflected after this API
+         * returns.
+         * @param request DeletePlayerSharedSecretRequest
+         * @return Running future that will complete with DeletePlayerSharedSecretResult
+         */
+        public PlayFabFuture<PlayFabResult<DeletePlayerSharedSecretResult>> DeletePlayerSharedSecret(final DeletePlayerSharedSecretRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<DeletePlayerSharedSecretResult>>() {
+                public PlayFabResult<DeletePlayerSharedSecretResult> call() throws Exception {
+                    return PlayFabAdminAPI.privateDeletePlayerSharedSecretAsync(PlayFabAdminInstanceAPI.this, request);
+                }
+            });
+        }
+
+        /**
+         * Deletes an existing player segment and its associated action(s) for a title.
+         * @param request DeleteSegmentRequest
+         * @return Running future that will complete with DeleteSegmentsResponse
+         */
+        public PlayFabFuture<PlayFabResult<DeleteSegmentsResponse>> DeleteSegment(final DeleteSegmentRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<DeleteSegmentsResponse>>() {
+                public PlayFabResult<DeleteSegmentsResponse> call() throws Exception {
+                    return PlayFabAdminAPI.privateDeleteSegmentAsync(PlayFabAdminInstanceAPI.this, request);
+                }
+            });
+        }
+
+        /**
+         * Deletes an existing virtual item store
+         * @param request DeleteStoreRequest
+         * @return Running future that will complete with DeleteStoreResult
+         */
+        public PlayFabFuture<PlayFabResult<DeleteStoreResult>> DeleteStore(final DeleteStoreRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<DeleteStoreResult>>() {
+                public PlayFabResult<DeleteStoreResult> call() throws Exception {
+                    return PlayFabAdminAPI.privateDeleteStoreAsync(PlayFabAdminInstanceAPI.this, request);
+                }
+            });
+        }
+
+        /**
+         * Delete a task.
+         * @param request DeleteTaskRequest
+         * @return Running future that will complete with EmptyResponse
+         */
+        public PlayFabFuture<PlayFabResult<EmptyResponse>> DeleteTask(final DeleteTaskRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<EmptyResponse>>() {
+                public PlayFabResult<EmptyResponse> call() throws Exception {
+                    return PlayFabAdminAPI.privateDeleteTaskAsync(PlayFabAdminInstanceAPI.this, request);
+                }
+            });
+        }
+
+        /**
+         * Permanently deletes a title and all associated configuration
+         * @param request DeleteTitleRequest
+         * @return Running future that will complete with DeleteTitleResult
+         */
+        public PlayFabFuture<PlayFabResult<DeleteTitleResult>> DeleteTitle(final DeleteTitleRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<DeleteTitleResult>>() {
+                public PlayFabResult<DeleteTitleResult> call() throws Exception {
+                    return PlayFabAdminAPI.privateDeleteTitleAsync(PlayFabAdminInstanceAPI.this, request);
+                }
+            });
+        }
+
+        /**
+         * Deletes a specified set of title data overrides.
+         * @param request DeleteTitleDataOverrideRequest
+         * @return Running future that will complete with DeleteTitleDataOverrideResult
+         */
+        public PlayFabFuture<PlayFabResult<DeleteTitleDataOverrideResult>> DeleteTitleDataOverride(final DeleteTitleDataOverrideRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<DeleteTitleDataOverrideResult>>() {
+                public PlayFabResult<DeleteTitleDataOverrideResult> call() throws Exception {
+                    return PlayFabAdminAPI.privateDeleteTitleDataOverrideAsync(PlayFabAdminInstanceAPI.this, request);
+                }
+            });
+        }
+
+        /**
+         * Exports all associated data of a master player account
+         * @param request ExportMasterPlayerDataRequest
+         * @return Running future that will complete with ExportMasterPlayerDataResult
+         */
+        public PlayFabFuture<PlayFabResult<ExportMasterPlayerDataResult>> ExportMasterPlayerData(final ExportMasterPlayerDataRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<ExportMasterPlayerDataResult>>() {
+                public PlayFabResult<ExportMasterPlayerDataResult> call() throws Exception {
+                    return PlayFabAdminAPI.privateExportMasterPlayerDataAsync(PlayFabAdminInstanceAPI.this, request);
+                }
+            });
+        }
+
+        /**
+         * Get information about a ActionsOnPlayersInSegment task instance.
+         * @param request GetTaskInstanceRequest
+         * @return Running future that will complete with GetActionsOnPlayersInSegmentTaskInstanceResult
+         */
+        public PlayFabFuture<PlayFabResult<GetActionsOnPlayersInSegmentTaskInstanceResult>> GetActionsOnPlayersInSegmentTaskInstance(final GetTaskInstanceRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<GetActionsOnPlayersInSegmentTaskInstanceResult>>() {
+                public PlayFabResult<GetActionsOnPlayersInSegmentTaskInstanceResult> call() throws Exception {
+                    return PlayFabAdminAPI.privateGetActionsOnPlayersInSegmentTaskInstanceAsync(PlayFabAdminInstanceAPI.this, request);
+                }
+            });
+        }
+
+        /**
+         * Retrieves an array of player segment definitions. Results from this can be used in subsequent API calls such as
+         * GetPlayersInSegment which requires a Segment ID. While segment names can change the ID for that segment will not change.
+         * @param request GetAllSegmentsRequest
+         * @return Running future that will complete with GetAllSegmentsResult
+         */
+        public PlayFabFuture<PlayFabResult<GetAllSegmentsResult>> GetAllSegments(final GetAllSegmentsRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<GetAllSegmentsResult>>() {
+                public PlayFabResult<GetAllSegmentsResult> call() throws Exception {
+                    return PlayFabAdminAPI.privateGetAllSegmentsAsync(PlayFabAdminInstanceAPI.this, request);
+                }
+            });
+        }
+
+        /**
+         * Retrieves the specified version of the title's catalog of virtual goods, including all defined properties
+         * @param request GetCatalogItemsRequest
+         * @return Running future that will complete with GetCatalogItemsResult
+         */
+        public PlayFabFuture<PlayFabResult<GetCatalogItemsResult>> GetCatalogItems(final GetCatalogItemsRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<GetCatalogItemsResult>>() {
+                public PlayFabResult<GetCatalogItemsResult> call() throws Exception {
+                    return PlayFabAdminAPI.privateGetCatalogItemsAsync(PlayFabAdminInstanceAPI.this, request);
+                }
+            });
+        }
+
+        /**
+         * Gets the contents and information of a specific Cloud Script revision.
+         * @param request GetCloudScriptRevisionRequest
+         * @return Running future that will complete with GetCloudScriptRevisionResult
+         */
+        public PlayFabFuture<PlayFabResult<GetCloudScriptRevisionResult>> GetCloudScriptRevision(final GetCloudScriptRevisionRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<GetCloudScriptRevisionResult>>() {
+                public PlayFabResult<GetCloudScriptRevisionResult> call() throws Exception {
+                    return PlayFabAdminAPI.privateGetCloudScriptRevisionAsync(PlayFabAdminInstanceAPI.this, request);
+                }
+            });
+        }
+
+        /**
+         * Get detail information about a CloudScript task instance.
+         * @param request GetTaskInstanceRequest
+         * @return Running future that will complete with GetCloudScriptTaskInstanceResult
+         */
+        public PlayFabFuture<PlayFabResult<GetCloudScriptTaskInstanceResult>> GetCloudScriptTaskInstance(final GetTaskInstanceRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<GetCloudScriptTaskInstanceResult>>() {
+                public PlayFabResult<GetCloudScriptTaskInstanceResult> call() throws Exception {
+                    return PlayFabAdminAPI.privateGetCloudScriptTaskInstanceAsync(PlayFabAdminInstanceAPI.this, request);
+                }
+            });
+        }
+
+        /**
+         * Lists all the current cloud script versions. For each version, information about the current published and latest
+         * revisions is also listed.
+         * @param request GetCloudScriptVersionsRequest
+         * @return Running future that will complete with GetCloudScriptVersionsResult
+         */
+        public PlayFabFuture<PlayFabResult<GetCloudScriptVersionsResult>> GetCloudScriptVersions(final GetCloudScriptVersionsRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<GetCloudScriptVersionsResult>>() {
+                public PlayFabResult<GetCloudScriptVersionsResult> call() throws Exception {
+                    return PlayFabAdminAPI.privateGetCloudScriptVersionsAsync(PlayFabAdminInstanceAPI.this, request);
+                }
+            });
+        }
+
+        /**
+         * List all contents of the title and get statistics such as size
+         * @param request GetContentListRequest
+         * @return Running future that will complete with GetContentListResult
+         */
+        public PlayFabFuture<PlayFabResult<GetContentListResult>> GetContentList(final GetContentListRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<GetContentListResult>>() {
+                public PlayFabResult<GetContentListResult> call() throws Exception {
+                    return PlayFabAdminAPI.privateGetContentListAsync(PlayFabAdminInstanceAPI.this, request);
+                }
+            });
+        }
+
+        /**
+         * Retrieves the pre-signed URL for uploading a content file. A subsequent HTTP PUT to the returned URL uploads the
+         * content. Also, please be aware that the Content service is specifically PlayFab's CDN offering, for which standard CDN
+         * rates apply.
+         * @param request GetContentUploadUrlRequest
+         * @return Running future that will complete with GetContentUploadUrlResult
+         */
+        public PlayFabFuture<PlayFabResult<GetContentUploadUrlResult>> GetContentUploadUrl(final GetContentUploadUrlRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<GetContentUploadUrlResult>>() {
+                public PlayFabResult<GetContentUploadUrlResult> call() throws Exception {
+                    return PlayFabAdminAPI.privateGetContentUploadUrlAsync(PlayFabAdminInstanceAPI.this, request);
+                }
+            });
+        }
+
+        /**
+         * Retrieves a download URL for the requested report
+         * @param request GetDataReportRequest
+         * @return Running future that will complete with GetDataReportResult
+         */
+        public PlayFabFuture<PlayFabResult<GetDataReportResult>> GetDataReport(final GetDataReportRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<GetDataReportResult>>() {
+                public PlayFabResult<GetDataReportResult> call() throws Exception {
+                    return PlayFabAdminAPI.privateGetDataReportAsync(PlayFabAdminInstanceAPI.this, request);
+                }
+            });
+        }
+
+        /**
+         * Retrieves the details for a specific completed session, including links to standard out and standard error logs
+         * @param request GetMatchmakerGameInfoRequest
+         * @return Running future that will complete with GetMatchmakerGameInfoResult
+         */
+        public PlayFabFuture<PlayFabResult<GetMatchmakerGameInfoResult>> GetMatchmakerGameInfo(final GetMatchmakerGameInfoRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<GetMatchmakerGameInfoResult>>() {
+                public PlayFabResult<GetMatchmakerGameInfoResult> call() throws Exception {
+                    return PlayFabAdminAPI.privateGetMatchmakerGameInfoAsync(PlayFabAdminInstanceAPI.this, request);
+                }
+            });
+        }
+
+        /**
+         * Retrieves the details of defined game modes for the specified game server executable
+         * @param request GetMatchmakerGameModesRequest
+         * @return Running future that will complete with GetMatchmakerGameModesResult
+         */
+        public PlayFabFuture<PlayFabResult<GetMatchmakerGameModesResult>> GetMatchmakerGameModes(final GetMatchmakerGameModesRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<GetMatchmakerGameModesResult>>() {
+                public PlayFabResult<GetMatchmakerGameModesResult> call() throws Exception {
+                    return PlayFabAdminAPI.privateGetMatchmakerGameModesAsync(PlayFabAdminInstanceAPI.this, request);
+                }
+            });
+        }
+
+        /**
+         * Get the list of titles that the player has played
+         * @param request GetPlayedTitleListRequest
+         * @return Running future that will complete with GetPlayedTitleListResult
+         */
+        public PlayFabFuture<PlayFabResult<GetPlayedTitleListResult>> GetPlayedTitleList(final GetPlayedTitleListRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<GetPlayedTitleListResult>>() {
+                public PlayFabResult<GetPlayedTitleListResult> call() throws Exception {
+                    return PlayFabAdminAPI.privateGetPlayedTitleListAsync(PlayFabAdminInstanceAPI.this, request);
+                }
+            });
+        }
+
+        /**
+         * Gets a player's ID from an auth token.
+         * @param request GetPlayerIdFromAuthTokenRequest
+         * @return Running future that will complete with GetPlayerIdFromAuthTokenResult
+         */
+        public PlayFabFuture<PlayFabResult<GetPlayerIdFromAuthTokenResult>> GetPlayerIdFromAuthToken(final GetPlayerIdFromAuthTokenRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<GetPlayerIdFromAuthTokenResult>>() {
+                public PlayFabResult<GetPlayerIdFromAuthTokenResult> call() throws Exception {
+                    return PlayFabAdminAPI.privateGetPlayerIdFromAuthTokenAsync(PlayFabAdminInstanceAPI.this, request);
+                }
+            });
+        }
+
+        /**
+         * Retrieves the player's profile
+         * @param request GetPlayerProfileRequest
+         * @return Running future that will complete with GetPlayerProfileResult
+         */
+        public PlayFabFuture<PlayFabResult<GetPlayerProfileResult>> GetPlayerProfile(final GetPlayerProfileRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<GetPlayerProfileResult>>() {
+                public PlayFabResult<GetPlayerProfileResult> call() throws Exception {
+                    return PlayFabAdminAPI.privateGetPlayerProfileAsync(PlayFabAdminInstanceAPI.this, request);
+                }
+            });
+        }
+
+        /**
+         * List all segments that a player currently belongs to at this moment in time.
+         * @param request GetPlayersSegmentsRequest
+         * @return Running future that will complete with GetPlayerSegmentsResult
+         */
+        public PlayFabFuture<PlayFabResult<GetPlayerSegmentsResult>> GetPlayerSegments(final GetPlayersSegmentsRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<GetPlayerSegmentsResult>>() {
+                public PlayFabResult<GetPlayerSegmentsResult> call() throws Exception {
+                    return PlayFabAdminAPI.privateGetPlayerSegmentsAsync(PlayFabAdminInstanceAPI.this, request);
+                }
+            });
+        }
+
+        /**
+         * Returns all Player Shared Secret Keys including disabled and expired.
+         * @param request GetPlayerSharedSecretsRequest
+         * @return Running future that will complete with GetPlayerSharedSecretsResult
+         */
+        public PlayFabFuture<PlayFabResult<GetPlayerSharedSecretsResult>> GetPlayerSharedSecrets(final GetPlayerSharedSecretsRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<GetPlayerSharedSecretsResult>>() {
+                public PlayFabResult<GetPlayerSharedSecretsResult> call() throws Exception {
+                    return PlayFabAdminAPI.privateGetPlayerSharedSecretsAsync(PlayFabAdminInstanceAPI.this, request);
+                }
+            });
+        }
+
+        /**
+         * Allows for paging through all players in a given segment. This API creates a snapshot of all player profiles that match
+         * the segment definition at the time of its creation and lives through the Total Seconds to Live, refreshing its life span
+         * on each subsequent use of the Continuation Token. Profiles that change during the course of paging will not be reflected
+         * in the results. AB Test segments are currently not supported by this operation. NOTE: This API is limited to being
+         * called 30 times in one minute. You will be returned an error if you exceed this threshold.
+         * @param request GetPlayersInSegmentRequest
+         * @return Running future that will complete with GetPlayersInSegmentResult
+         */
+        public PlayFabFuture<PlayFabResult<GetPlayersInSegmentResult>> GetPlayersInSegment(final GetPlayersInSegmentRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<GetPlayersInSegmentResult>>() {
+                public PlayFabResult<GetPlayersInSegmentResult> call() throws Exception {
+                    return PlayFabAdminAPI.privateGetPlayersInSegmentAsync(PlayFabAdminInstanceAPI.this, request);
+                }
+            });
+        }
+
+        /**
+         * Retrieves the configuration information for all player statistics defined in the title, regardless of whether they have
+         * a reset interval.
+         * @param request GetPlayerStatisticDefinitionsRequest
+         * @return Running future that will complete with GetPlayerStatisticDefinitionsResult
+         */
+        public PlayFabFuture<PlayFabResult<GetPlayerStatisticDefinitionsResult>> GetPlayerStatisticDefinitions(final GetPlayerStatisticDefinitionsRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<GetPlayerStatisticDefinitionsResult>>() {
+                public PlayFabResult<GetPlayerStatisticDefinitionsResult> call() throws Exception {
+                    return PlayFabAdminAPI.privateGetPlayerStatisticDefinitionsAsync(PlayFabAdminInstanceAPI.this, request);
+                }
+            });
+        }
+
+        /**
+         * Retrieves the information on the available versions of the specified statistic.
+         * @param request GetPlayerStatisticVersionsRequest
+         * @return Running future that will complete with GetPlayerStatisticVersionsResult
+         */
+        public PlayFabFuture<PlayFabResult<GetPlayerStatisticVersionsResult>> GetPlayerStatisticVersions(final GetPlayerStatisticVersionsRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<GetPlayerStatisticVersionsResult>>() {
+                public PlayFabResult<GetPlayerStatisticVersionsResult> call() throws Exception {
+                    return PlayFabAdminAPI.privateGetPlayerStatisticVersionsAsync(PlayFabAdminInstanceAPI.this, request);
+                }
+            });
+        }
+
+        /**
+         * Get all tags with a given Namespace (optional) from a player profile.
+         * @param request GetPlayerTagsRequest
+         * @return Running future that will complete with GetPlayerTagsResult
+         */
+        public PlayFabFuture<PlayFabResult<GetPlayerTagsResult>> GetPlayerTags(final GetPlayerTagsRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<GetPlayerTagsResult>>() {
+                public PlayFabResult<GetPlayerTagsResult> call() throws Exception {
+                    return PlayFabAdminAPI.privateGetPlayerTagsAsync(PlayFabAdminInstanceAPI.this, request);
+                }
+            });
+        }
+
+        /**
+         * Gets the requested policy.
+         * @param request GetPolicyRequest
+         * @return Running future that will complete with GetPolicyResponse
+         */
+        public PlayFabFuture<PlayFabResult<GetPolicyResponse>> GetPolicy(final GetPolicyRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<GetPolicyResponse>>() {
+                public PlayFabResult<GetPolicyResponse> call() throws Exception {
+                    return PlayFabAdminAPI.privateGetPolicyAsync(PlayFabAdminInstanceAPI.this, request);
+                }
+            });
+        }
+
+        /**
+         * Retrieves the key-value store of custom publisher settings
+         * @param request GetPublisherDataRequest
+         * @return Running future that will complete with GetPublisherDataResult
+         */
+        public PlayFabFuture<PlayFabResult<GetPublisherDataResult>> GetPublisherData(final GetPublisherDataRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<GetPublisherDataResult>>() {
+                public PlayFabResult<GetPublisherDataResult> call() throws Exception {
+                    return PlayFabAdminAPI.privateGetPublisherDataAsync(PlayFabAdminInstanceAPI.this, request);
+                }
+            });
+        }
+
+        /**
+         * Retrieves the random drop table configuration for the title
+         * @param request GetRandomResultTablesRequest
+         * @return Running future that will complete with GetRandomResultTablesResult
+         */
+        public PlayFabFuture<PlayFabResult<GetRandomResultTablesResult>> GetRandomResultTables(final GetRandomResultTablesRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<GetRandomResultTablesResult>>() {
+                public PlayFabResult<GetRandomResultTablesResult> call() throws Exception {
+                    return PlayFabAdminAPI.privateGetRandomResultTablesAsync(PlayFabAdminInstanceAPI.this, request);
+                }
+            });
+        }
+
+        /**
+         * Get detail information of a segment and its associated definition(s) and action(s) for a title.
+         * @param request GetSegmentsRequest
+         * @return Running future that will complete with GetSegmentsResponse
+         */
+        public PlayFabFuture<PlayFabResult<GetSegmentsResponse>> GetSegments(final GetSegmentsRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<GetSegmentsResponse>>() {
+                public PlayFabResult<GetSegmentsResponse> call() throws Exception {
+                    return PlayFabAdminAPI.privateGetSegmentsAsync(PlayFabAdminInstanceAPI.this, request);
+                }
+            });
+        }
+
+        /**
+         * Retrieves the build details for the specified game server executable
+         * @param request GetServerBuildInfoRequest
+         * @return Running future that will complete with GetServerBuildInfoResult
+         */
+        public PlayFabFuture<PlayFabResult<GetServerBuildInfoResult>> GetServerBuildInfo(final GetServerBuildInfoRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<GetServerBuildInfoResult>>() {
+                public PlayFabResult<GetServerBuildInfoResult> call() throws Exception {
+                    return PlayFabAdminAPI.privateGetServerBuildInfoAsync(PlayFabAdminInstanceAPI.this, request);
+                }
+            });
+        }
+
+        /**
+         * Retrieves the pre-authorized URL for uploading a game server package containing a build (does not enable the build for
+         * use - see AddServerBuild)
+         * @param request GetServerBuildUploadURLRequest
+         * @return Running future that will complete with GetServerBuildUploadURLResult
+         */
+        public PlayFabFuture<PlayFabResult<GetServerBuildUploadURLResult>> GetServerBuildUploadUrl(final GetServerBuildUploadURLRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<GetServerBuildUploadURLResult>>() {
+                public PlayFabResult<GetServerBuildUploadURLResult> call() throws Exception {
+                    return PlayFabAdminAPI.privateGetServerBuildUploadUrlAsync(PlayFabAdminInstanceAPI.this, request);
+                }
+            });
+        }
+
+        /**
+         * Retrieves the set of items defined for the specified store, including all prices defined
+         * @param request GetStoreItemsRequest
+         * @return Running future that will complete with GetStoreItemsResult
+         */
+        public PlayFabFuture<PlayFabResult<GetStoreItemsResult>> GetStoreItems(final GetStoreItemsRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<GetStoreItemsResult>>() {
+                public PlayFabResult<GetStoreItemsResult> call() throws Exception {
+                    return PlayFabAdminAPI.privateGetStoreItemsAsync(PlayFabAdminInstanceAPI.this, request);
+                }
+            });
+        }
+
+        /**
+         * Query for task instances by task, status, or time range.
+         * @param request GetTaskInstancesRequest
+         * @return Running future that will complete with GetTaskInstancesResult
+         */
+        public PlayFabFuture<PlayFabResult<GetTaskInstancesResult>> GetTaskInstances(final GetTaskInstancesRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<GetTaskInstancesResult>>() {
+                public PlayFabResult<GetTaskInstancesResult> call() throws Exception {
+                    return PlayFabAdminAPI.privateGetTaskInstancesAsync(PlayFabAdminInstanceAPI.this, request);
+                }
+            });
+        }
+
+        /**
+         * Get definition information on a specified task or all tasks within a title.
+         * @param request GetTasksRequest
+         * @return Running future that will complete with GetTasksResult
+         */
+        public PlayFabFuture<PlayFabResult<GetTasksResult>> GetTasks(final GetTasksRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<GetTasksResult>>() {
+                public PlayFabResult<GetTasksResult> call() throws Exception {
+                    return PlayFabAdminAPI.privateGetTasksAsync(PlayFabAdminInstanceAPI.this, request);
+                }
+            });
+        }
+
+        /**
+         * Retrieves the key-value store of custom title settings which can be read by the client
+         * @param request GetTitleDataRequest
+         * @return Running future that will complete with GetTitleDataResult
+         */
+        public PlayFabFuture<PlayFabResult<GetTitleDataResult>> GetTitleData(final GetTitleDataRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<GetTitleDataResult>>() {
+                public PlayFabResult<GetTitleDataResult> call() throws Exception {
+                    return PlayFabAdminAPI.privateGetTitleDataAsync(PlayFabAdminInstanceAPI.this, request);
+                }
+            });
+        }
+
+        /**
+         * Retrieves the key-value store of custom title settings which cannot be read by the client
+         * @param request GetTitleDataRequest
+         * @return Running future that will complete with GetTitleDataResult
+         */
+        public PlayFabFuture<PlayFabResult<GetTitleDataResult>> GetTitleInternalData(final GetTitleDataRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<GetTitleDataResult>>() {
+                public PlayFabResult<GetTitleDataResult> call() throws Exception {
+                    return PlayFabAdminAPI.privateGetTitleInternalDataAsync(PlayFabAdminInstanceAPI.this, request);
+                }
+            });
+        }
+
+        /**
+         * Retrieves the relevant details for a specified user, based upon a match against a supplied unique identifier
+         * @param request LookupUserAccountInfoRequest
+         * @return Running future that will complete with LookupUserAccountInfoResult
+         */
+        public PlayFabFuture<PlayFabResult<LookupUserAccountInfoResult>> GetUserAccountInfo(final LookupUserAccountInfoRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<LookupUserAccountInfoResult>>() {
+                public PlayFabResult<LookupUserAccountInfoResult> call() throws Exception {
+                    return PlayFabAdminAPI.privateGetUserAccountInfoAsync(PlayFabAdminInstanceAPI.this, request);
+                }
+            });
+        }
+
+        /**
+         * Gets all bans for a user.
+         * @param request GetUserBansRequest
+         * @return Running future that will complete with GetUserBansResult
+         */
+        public PlayFabFuture<PlayFabResult<GetUserBansResult>> GetUserBans(final GetUserBansRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<GetUserBansResult>>() {
+                public PlayFabResult<GetUserBansResult> call() throws Exception {
+                    return PlayFabAdminAPI.privateGetUserBansAsync(PlayFabAdminInstanceAPI.this, request);
+                }
+            });
+        }
+
+        /**
+         * Retrieves the title-specific custom data for the user which is readable and writable by the client
+         * @param request GetUserDataRequest
+         * @return Running future that will complete with GetUserDataResult
+         */
+        public PlayFabFuture<PlayFabResult<GetUserDataResult>> GetUserData(final GetUserDataRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<GetUserDataResult>>() {
+                public PlayFabResult<GetUserDataResult> call() throws Exception {
+                    return PlayFabAdminAPI.privateGetUserDataAsync(PlayFabAdminInstanceAPI.this, request);
+                }
+            });
+        }
+
+        /**
+         * Retrieves the title-specific custom data for the user which cannot be accessed by the client
+         * @param request GetUserDataRequest
+         * @return Running future that will complete with GetUserDataResult
+         */
+        public PlayFabFuture<PlayFabResult<GetUserDataResult>> GetUserInternalData(final GetUserDataRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<GetUserDataResult>>() {
+                public PlayFabResult<GetUserDataResult> call() throws Exception {
+                    return PlayFabAdminAPI.privateGetUserInternalDataAsync(PlayFabAdminInstanceAPI.this, request);
+                }
+            });
+        }
+
+        /**
+         * Retrieves the specified user's current inventory of virtual goods
+         * @param request GetUserInventoryRequest
+         * @return Running future that will complete with GetUserInventoryResult
+         */
+        public PlayFabFuture<PlayFabResult<GetUserInventoryResult>> GetUserInventory(final GetUserInventoryRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<GetUserInventoryResult>>() {
+                public PlayFabResult<GetUserInventoryResult> call() throws Exception {
+                    return PlayFabAdminAPI.privateGetUserInventoryAsync(PlayFabAdminInstanceAPI.this, request);
+                }
+            });
+        }
+
+        /**
+         * Retrieves the publisher-specific custom data for the user which is readable and writable by the client
+         * @param request GetUserDataRequest
+         * @return Running future that will complete with GetUserDataResult
+         */
+        public PlayFabFuture<PlayFabResult<GetUserDataResult>> GetUserPublisherData(final GetUserDataRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<GetUserDataResult>>() {
+                public PlayFabResult<GetUserDataResult> call() throws Exception {
+                    return PlayFabAdminAPI.privateGetUserPublisherDataAsync(PlayFabAdminInstanceAPI.this, request);
+                }
+            });
+        }
+
+        /**
+         * Retrieves the publisher-specific custom data for the user which cannot be accessed by the client
+         * @param request GetUserDataRequest
+         * @return Running future that will complete with GetUserDataResult
+         */
+        public PlayFabFuture<PlayFabResult<GetUserDataResult>> GetUserPublisherInternalData(final GetUserDataRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<GetUserDataResult>>() {
+                public PlayFabResult<GetUserDataResult> call() throws Exception {
+                    return PlayFabAdminAPI.privateGetUserPublisherInternalDataAsync(PlayFabAdminInstanceAPI.this, request);
+                }
+            });
+        }
+
+        /**
+         * Retrieves the publisher-specific custom data for the user which can only be read by the client
+         * @param request GetUserDataRequest
+         * @return Running future that will complete with GetUserDataResult
+         */
+        public PlayFabFuture<PlayFabResult<GetUserDataResult>> GetUserPublisherReadOnlyData(final GetUserDataRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<GetUserDataResult>>() {
+                public PlayFabResult<GetUserDataResult> call() throws Exception {
+                    return PlayFabAdminAPI.privateGetUserPublisherReadOnlyDataAsync(PlayFabAdminInstanceAPI.this, request);
+                }
+            });
+        }
+
+        /**
+         * Retrieves the title-specific custom data for the user which can only be read by the client
+         * @param request GetUserDataRequest
+         * @return Running future that will complete with GetUserDataResult
+         */
+        public PlayFabFuture<PlayFabResult<GetUserDataResult>> GetUserReadOnlyData(final GetUserDataRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<GetUserDataResult>>() {
+                public PlayFabResult<GetUserDataResult> call() throws Exception {
+                    return PlayFabAdminAPI.privateGetUserReadOnlyDataAsync(PlayFabAdminInstanceAPI.this, request);
+                }
+            });
+        }
+
+        /**
+         * Adds the specified items to the specified user inventories
+         * @param request GrantItemsToUsersRequest
+         * @return Running future that will complete with GrantItemsToUsersResult
+         */
+        public PlayFabFuture<PlayFabResult<GrantItemsToUsersResult>> GrantItemsToUsers(final GrantItemsToUsersRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<GrantItemsToUsersResult>>() {
+                public PlayFabResult<GrantItemsToUsersResult> call() throws Exception {
+                    return PlayFabAdminAPI.privateGrantItemsToUsersAsync(PlayFabAdminInstanceAPI.this, request);
+                }
+            });
+        }
+
+        /**
+         * Increases the global count for the given scarce resource.
+         * @param request IncrementLimitedEditionItemAvailabilityRequest
+         * @return Running future that will complete with IncrementLimitedEditionItemAvailabilityResult
+         */
+        public PlayFabFuture<PlayFabResult<IncrementLimitedEditionItemAvailabilityResult>> IncrementLimitedEditionItemAvailability(final IncrementLimitedEditionItemAvailabilityRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<IncrementLimitedEditionItemAvailabilityResult>>() {
+                public PlayFabResult<IncrementLimitedEditionItemAvailabilityResult> call() throws Exception {
+                    return PlayFabAdminAPI.privateIncrementLimitedEditionItemAvailabilityAsync(PlayFabAdminInstanceAPI.this, request);
+                }
+            });
+        }
+
+        /**
+         * Resets the indicated statistic, removing all player entries for it and backing up the old values.
+         * @param request IncrementPlayerStatisticVersionRequest
+         * @return Running future that will complete with IncrementPlayerStatisticVersionResult
+         */
+        public PlayFabFuture<PlayFabResult<IncrementPlayerStatisticVersionResult>> IncrementPlayerStatisticVersion(final IncrementPlayerStatisticVersionRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<IncrementPlayerStatisticVersionResult>>() {
+                public PlayFabResult<IncrementPlayerStatisticVersionResult> call() throws Exception {
+                    return PlayFabAdminAPI.privateIncrementPlayerStatisticVersionAsync(PlayFabAdminInstanceAPI.this, request);
+                }
+            });
+        }
+
+        /**
+         * Retrieves a list of all Open ID Connect providers registered to a title.
+         * @param request ListOpenIdConnectionRequest
+         * @return Running future that will complete with ListOpenIdConnectionResponse
+         */
+        public PlayFabFuture<PlayFabResult<ListOpenIdConnectionResponse>> ListOpenIdConnection(final ListOpenIdConnectionRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<ListOpenIdConnectionResponse>>() {
+                public PlayFabResult<ListOpenIdConnectionResponse> call() throws Exception {
+                    return PlayFabAdminAPI.privateListOpenIdConnectionAsync(PlayFabAdminInstanceAPI.this, request);
+                }
+            });
+        }
+
+        /**
+         * Retrieves the build details for all game server executables which are currently defined for the title
+         * @param request ListBuildsRequest
+         * @return Running future that will complete with ListBuildsResult
+         */
+        public PlayFabFuture<PlayFabResult<ListBuildsResult>> ListServerBuilds(final ListBuildsRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<ListBuildsResult>>() {
+                public PlayFabResult<ListBuildsResult> call() throws Exception {
+                    return PlayFabAdminAPI.privateListServerBuildsAsync(PlayFabAdminInstanceAPI.this, request);
+                }
+            });
+        }
+
+        /**
+         * Retuns the list of all defined virtual currencies for the title
+         * @param request ListVirtualCurrencyTypesRequest
+         * @return Running future that will complete with ListVirtualCurrencyTypesResult
+         */
+        public PlayFabFuture<PlayFabResult<ListVirtualCurrencyTypesResult>> ListVirtualCurrencyTypes(final ListVirtualCurrencyTypesRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<ListVirtualCurrencyTypesResult>>() {
+                public PlayFabResult<ListVirtualCurrencyTypesResult> call() throws Exception {
+                    return PlayFabAdminAPI.privateListVirtualCurrencyTypesAsync(PlayFabAdminInstanceAPI.this, request);
+                }
+            });
+        }
+
+        /**
+         * Updates the game server mode details for the specified game server executable
+         * @param request ModifyMatchmakerGameModesRequest
+         * @return Running future that will complete with ModifyMatchmakerGameModesResult
+         */
+        public PlayFabFuture<PlayFabResult<ModifyMatchmakerGameModesResult>> ModifyMatchmakerGameModes(final ModifyMatchmakerGameModesRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<ModifyMatchmakerGameModesResult>>() {
+                public PlayFabResult<ModifyMatchmakerGameModesResult> call() throws Exception {
+                    return PlayFabAdminAPI.privateModifyMatchmakerGameModesAsync(PlayFabAdminInstanceAPI.this, request);
+                }
+            });
+        }
+
+        /**
+         * Updates the build details for the specified game server executable
+         * @param request ModifyServerBuildRequest
+         * @return Running future that will complete with ModifyServerBuildResult
+         */
+        public PlayFabFuture<PlayFabResult<ModifyServerBuildResult>> ModifyServerBuild(final ModifyServerBuildRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<ModifyServerBuildResult>>() {
+                public PlayFabResult<ModifyServerBuildResult> call() throws Exception {
+                    return PlayFabAdminAPI.privateModifyServerBuildAsync(PlayFabAdminInstanceAPI.this, request);
+                }
+            });
+        }
+
+        /**
+         * Attempts to process an order refund through the original real money payment provider.
+         * @param request RefundPurchaseRequest
+         * @return Running future that will complete with RefundPurchaseResponse
+         */
+        public PlayFabFuture<PlayFabResult<RefundPurchaseResponse>> RefundPurchase(final RefundPurchaseRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<RefundPurchaseResponse>>() {
+                public PlayFabResult<RefundPurchaseResponse> call() throws Exception {
+                    return PlayFabAdminAPI.privateRefundPurchaseAsync(PlayFabAdminInstanceAPI.this, request);
+                }
+            });
+        }
+
+        /**
+         * Remove a given tag from a player profile. The tag's namespace is automatically generated based on the source of the tag.
+         * @param request RemovePlayerTagRequest
+         * @return Running future that will complete with RemovePlayerTagResult
+         */
+        public PlayFabFuture<PlayFabResult<RemovePlayerTagResult>> RemovePlayerTag(final RemovePlayerTagRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<RemovePlayerTagResult>>() {
+                public PlayFabResult<RemovePlayerTagResult> call() throws Exception {
+                    return PlayFabAdminAPI.privateRemovePlayerTagAsync(PlayFabAdminInstanceAPI.this, request);
+                }
+            });
+        }
+
+        /**
+         * Removes the game server executable specified from the set of those a client is permitted to request in a call to
+         * StartGame
+         * @param request RemoveServerBuildRequest
+         * @return Running future that will complete with RemoveServerBuildResult
+         */
+        public PlayFabFuture<PlayFabResult<RemoveServerBuildResult>> RemoveServerBuild(final RemoveServerBuildRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<RemoveServerBuildResult>>() {
+                public PlayFabResult<RemoveServerBuildResult> call() throws Exception {
+                    return PlayFabAdminAPI.privateRemoveServerBuildAsync(PlayFabAdminInstanceAPI.this, request);
+                }
+            });
+        }
+
+        /**
+         * Removes one or more virtual currencies from the set defined for the title.
+         * @param request RemoveVirtualCurrencyTypesRequest
+         * @return Running future that will complete with BlankResult
+         */
+        public PlayFabFuture<PlayFabResult<BlankResult>> RemoveVirtualCurrencyTypes(final RemoveVirtualCurrencyTypesRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<BlankResult>>() {
+                public PlayFabResult<BlankResult> call() throws Exception {
+                    return PlayFabAdminAPI.privateRemoveVirtualCurrencyTypesAsync(PlayFabAdminInstanceAPI.this, request);
+                }
+            });
+        }
+
+        /**
+         * Completely removes all statistics for the specified character, for the current game
+         * @param request ResetCharacterStatisticsRequest
+         * @return Running future that will complete with ResetCharacterStatisticsResult
+         */
+        public PlayFabFuture<PlayFabResult<ResetCharacterStatisticsResult>> ResetCharacterStatistics(final ResetCharacterStatisticsRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<ResetCharacterStatisticsResult>>() {
+                public PlayFabResult<ResetCharacterStatisticsResult> call() throws Exception {
+                    return PlayFabAdminAPI.privateResetCharacterStatisticsAsync(PlayFabAdminInstanceAPI.this, request);
+                }
+            });
+        }
+
+        /**
+         * Reset a player's password for a given title.
+         * @param request ResetPasswordRequest
+         * @return Running future that will complete with ResetPasswordResult
+         */
+        public PlayFabFuture<PlayFabResult<ResetPasswordResult>> ResetPassword(final ResetPasswordRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<ResetPasswordResult>>() {
+                public PlayFabResult<ResetPasswordResult> call() throws Exception {
+                    return PlayFabAdminAPI.privateResetPasswordAsync(PlayFabAdminInstanceAPI.this, request);
+                }
+            });
+        }
+
+        /**
+         * Completely removes all statistics for the specified user, for the current game
+         * @param request ResetUserStatisticsRequest
+         * @return Running future that will complete with ResetUserStatisticsResult
+         */
+        public PlayFabFuture<PlayFabResult<ResetUserStatisticsResult>> ResetUserStatistics(final ResetUserStatisticsRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<ResetUserStatisticsResult>>() {
+                public PlayFabResult<ResetUserStatisticsResult> call() throws Exception {
+                    return PlayFabAdminAPI.privateResetUserStatisticsAsync(PlayFabAdminInstanceAPI.this, request);
+                }
+            });
+        }
+
+        /**
+         * Attempts to resolve a dispute with the original order's payment provider.
+         * @param request ResolvePurchaseDisputeRequest
+         * @return Running future that will complete with ResolvePurchaseDisputeResponse
+         */
+        public PlayFabFuture<PlayFabResult<ResolvePurchaseDisputeResponse>> ResolvePurchaseDispute(final ResolvePurchaseDisputeRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<ResolvePurchaseDisputeResponse>>() {
+                public PlayFabResult<ResolvePurchaseDisputeResponse> call() throws Exception {
+                    return PlayFabAdminAPI.privateResolvePurchaseDisputeAsync(PlayFabAdminInstanceAPI.this, request);
+                }
+            });
+        }
+
+        /**
+         * Revoke all active bans for a user.
+         * @param request RevokeAllBansForUserRequest
+         * @return Running future that will complete with RevokeAllBansForUserResult
+         */
+        public PlayFabFuture<PlayFabResult<RevokeAllBansForUserResult>> RevokeAllBansForUser(final RevokeAllBansForUserRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<RevokeAllBansForUserResult>>() {
+                public PlayFabResult<RevokeAllBansForUserResult> call() throws Exception {
+                    return PlayFabAdminAPI.privateRevokeAllBansForUserAsync(PlayFabAdminInstanceAPI.this, request);
+                }
+            });
+        }
+
+        /**
+         * Revoke all active bans specified with BanId.
+         * @param request RevokeBansRequest
+         * @return Running future that will complete with RevokeBansResult
+         */
+        public PlayFabFuture<PlayFabResult<RevokeBansResult>> RevokeBans(final RevokeBansRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<RevokeBansResult>>() {
+                public PlayFabResult<RevokeBansResult> call() throws Exception {
+                    return PlayFabAdminAPI.privateRevokeBansAsync(PlayFabAdminInstanceAPI.this, request);
+                }
+            });
+        }
+
+        /**
+         * Revokes access to an item in a user's inventory
+         * @param request RevokeInventoryItemRequest
+         * @return Running future that will complete with RevokeInventoryResult
+         */
+        public PlayFabFuture<PlayFabResult<RevokeInventoryResult>> RevokeInventoryItem(final RevokeInventoryItemRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<RevokeInventoryResult>>() {
+                public PlayFabResult<RevokeInventoryResult> call() throws Exception {
+                    return PlayFabAdminAPI.privateRevokeInventoryItemAsync(PlayFabAdminInstanceAPI.this, request);
+                }
+            });
+        }
+
+        /**
+         * Revokes access for up to 25 items across multiple users and characters.
+         * @param request RevokeInventoryItemsRequest
+         * @return Running future that will complete with RevokeInventoryItemsResult
+         */
+        public PlayFabFuture<PlayFabResult<RevokeInventoryItemsResult>> RevokeInventoryItems(final RevokeInventoryItemsRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<RevokeInventoryItemsResult>>() {
+                public PlayFabResult<RevokeInventoryItemsResult> call() throws Exception {
+                    return PlayFabAdminAPI.privateRevokeInventoryItemsAsync(PlayFabAdminInstanceAPI.this, request);
+                }
+            });
+        }
+
+        /**
+         * Run a task immediately regardless of its schedule.
+         * @param request RunTaskRequest
+         * @return Running future that will complete with RunTaskResult
+         */
+        public PlayFabFuture<PlayFabResult<RunTaskResult>> RunTask(final RunTaskRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<RunTaskResult>>() {
+                public PlayFabResult<RunTaskResult> call() throws Exception {
+                    return PlayFabAdminAPI.privateRunTaskAsync(PlayFabAdminInstanceAPI.this, request);
+                }
+            });
+        }
+
+        /**
+         * Forces an email to be sent to the registered email address for the user's account, with a link allowing the user to
+         * change the password.If an account recovery email template ID is provided, an email using the custom email template will
+         * be used.
+         * @param request SendAccountRecoveryEmailRequest
+         * @return Running future that will complete with SendAccountRecoveryEmailResult
+         */
+        public PlayFabFuture<PlayFabResult<SendAccountRecoveryEmailResult>> SendAccountRecoveryEmail(final SendAccountRecoveryEmailRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<SendAccountRecoveryEmailResult>>() {
+                public PlayFabResult<SendAccountRecoveryEmailResult> call() throws Exception {
+                    return PlayFabAdminAPI.privateSendAccountRecoveryEmailAsync(PlayFabAdminInstanceAPI.this, request);
+                }
+            });
+        }
+
+        /**
+         * Creates the catalog configuration of all virtual goods for the specified catalog version
+         * @param request UpdateCatalogItemsRequest
+         * @return Running future that will complete with UpdateCatalogItemsResult
+         */
+        public PlayFabFuture<PlayFabResult<UpdateCatalogItemsResult>> SetCatalogItems(final UpdateCatalogItemsRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<UpdateCatalogItemsResult>>() {
+                public PlayFabResult<UpdateCatalogItemsResult> call() throws Exception {
+                    return PlayFabAdminAPI.privateSetCatalogItemsAsync(PlayFabAdminInstanceAPI.this, request);
+                }
+            });
+        }
+
+        /**
+         * Sets the override expiration for a membership subscription
+         * @param request SetMembershipOverrideRequest
+         * @return Running future that will complete with SetMembershipOverrideResult
+         */
+        public PlayFabFuture<PlayFabResult<SetMembershipOverrideResult>> SetMembershipOverride(final SetMembershipOverrideRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<SetMembershipOverrideResult>>() {
+                public PlayFabResult<SetMembershipOverrideResult> call() throws Exception {
+                    return PlayFabAdminAPI.privateSetMembershipOverrideAsync(PlayFabAdminInstanceAPI.this, request);
+                }
+            });
+        }
+
+        /**
+         * Sets or resets the player's secret. Player secrets are used to sign API requests.
+         * @param request SetPlayerSecretRequest
+         * @return Running future that will complete with SetPlayerSecretResult
+         */
+        public PlayFabFuture<PlayFabResult<SetPlayerSecretResult>> SetPlayerSecret(final SetPlayerSecretRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<SetPlayerSecretResult>>() {
+                public PlayFabResult<SetPlayerSecretResult> call() throws Exception {
+                    return PlayFabAdminAPI.privateSetPlayerSecretAsync(PlayFabAdminInstanceAPI.this, request);
+                }
+            });
+        }
+
+        /**
+         * Sets the currently published revision of a title Cloud Script
+         * @param request SetPublishedRevisionRequest
+         * @return Running future that will complete with SetPublishedRevisionResult
+         */
+        public PlayFabFuture<PlayFabResult<SetPublishedRevisionResult>> SetPublishedRevision(final SetPublishedRevisionRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<SetPublishedRevisionResult>>() {
+                public PlayFabResult<SetPublishedRevisionResult> call() throws Exception {
+                    return PlayFabAdminAPI.privateSetPublishedRevisionAsync(PlayFabAdminInstanceAPI.this, request);
+                }
+            });
+        }
+
+        /**
+         * Updates the key-value store of custom publisher settings
+         * @param request SetPublisherDataRequest
+         * @return Running future that will complete with SetPublisherDataResult
+         */
+        public PlayFabFuture<PlayFabResult<SetPublisherDataResult>> SetPublisherData(final SetPublisherDataRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<SetPublisherDataResult>>() {
+                public PlayFabResult<SetPublisherDataResult> call() throws Exception {
+                    return PlayFabAdminAPI.privateSetPublisherDataAsync(PlayFabAdminInstanceAPI.this, request);
+                }
+            });
+        }
+
+        /**
+         * Sets all the items in one virtual store
+         * @param request UpdateStoreItemsRequest
+         * @return Running future that will complete with UpdateStoreItemsResult
+         */
+        public PlayFabFuture<PlayFabResult<UpdateStoreItemsResult>> SetStoreItems(final UpdateStoreItemsRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<UpdateStoreItemsResult>>() {
+                public PlayFabResult<UpdateStoreItemsResult> call() throws Exception {
+                    return PlayFabAdminAPI.privateSetStoreItemsAsync(PlayFabAdminInstanceAPI.this, request);
+                }
+            });
+        }
+
+        /**
+         * Creates and updates the key-value store of custom title settings which can be read by the client
+         * @param request SetTitleDataRequest
+         * @return Running future that will complete with SetTitleDataResult
+         */
+        public PlayFabFuture<PlayFabResult<SetTitleDataResult>> SetTitleData(final SetTitleDataRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<SetTitleDataResult>>() {
+                public PlayFabResult<SetTitleDataResult> call() throws Exception {
+                    return PlayFabAdminAPI.privateSetTitleDataAsync(PlayFabAdminInstanceAPI.this, request);
+                }
+            });
+        }
+
+        /**
+         * Set and delete key-value pairs in a title data override instance.
+         * @param request SetTitleDataAndOverridesRequest
+         * @return Running future that will complete with SetTitleDataAndOverridesResult
+         */
+        public PlayFabFuture<PlayFabResult<SetTitleDataAndOverridesResult>> SetTitleDataAndOverrides(final SetTitleDataAndOverridesRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<SetTitleDataAndOverridesResult>>() {
+                public PlayFabResult<SetTitleDataAndOverridesResult> call() throws Exception {
+                    return PlayFabAdminAPI.privateSetTitleDataAndOverridesAsync(PlayFabAdminInstanceAPI.this, request);
+                }
+            });
+        }
+
+        /**
+         * Updates the key-value store of custom title settings which cannot be read by the client
+         * @param request SetTitleDataRequest
+         * @return Running future that will complete with SetTitleDataResult
+         */
+        public PlayFabFuture<PlayFabResult<SetTitleDataResult>> SetTitleInternalData(final SetTitleDataRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<SetTitleDataResult>>() {
+                public PlayFabResult<SetTitleDataResult> call() throws Exception {
+                    return PlayFabAdminAPI.privateSetTitleInternalDataAsync(PlayFabAdminInstanceAPI.this, request);
+                }
+            });
+        }
+
+        /**
+         * Sets the Amazon Resource Name (ARN) for iOS and Android push notifications. Documentation on the exact restrictions can
+         * be found at: http://docs.aws.amazon.com/sns/latest/api/API_CreatePlatformApplication.html. Currently, Amazon device
+         * Messaging is not supported.
+         * @param request SetupPushNotificationRequest
+         * @return Running future that will complete with SetupPushNotificationResult
+         */
+        public PlayFabFuture<PlayFabResult<SetupPushNotificationResult>> SetupPushNotification(final SetupPushNotificationRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<SetupPushNotificationResult>>() {
+                public PlayFabResult<SetupPushNotificationResult> call() throws Exception {
+                    return PlayFabAdminAPI.privateSetupPushNotificationAsync(PlayFabAdminInstanceAPI.this, request);
+                }
+            });
+        }
+
+        /**
+         * Decrements the specified virtual currency by the stated amount
+         * @param request SubtractUserVirtualCurrencyRequest
+         * @return Running future that will complete with ModifyUserVirtualCurrencyResult
+         */
+        public PlayFabFuture<PlayFabResult<ModifyUserVirtualCurrencyResult>> SubtractUserVirtualCurrency(final SubtractUserVirtualCurrencyRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<ModifyUserVirtualCurrencyResult>>() {
+                public PlayFabResult<ModifyUserVirtualCurrencyResult> call() throws Exception {
+                    return PlayFabAdminAPI.privateSubtractUserVirtualCurrencyAsync(PlayFabAdminInstanceAPI.this, request);
+                }
+            });
+        }
+
+        /**
+         * Updates information of a list of existing bans specified with Ban Ids.
+         * @param request UpdateBansRequest
+         * @return Running future that will complete with UpdateBansResult
+         */
+        public PlayFabFuture<PlayFabResult<UpdateBansResult>> UpdateBans(final UpdateBansRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<UpdateBansResult>>() {
+                public PlayFabResult<UpdateBansResult> call() throws Exception {
+                    return PlayFabAdminAPI.privateUpdateBansAsync(PlayFabAdminInstanceAPI.this, request);
+                }
+            });
+        }
+
+        /**
+         * Updates the catalog configuration for virtual goods in the specified catalog version
+         * @param request UpdateCatalogItemsRequest
+         * @return Running future that will complete with UpdateCatalogItemsResult
+         */
+        public PlayFabFuture<PlayFabResult<UpdateCatalogItemsResult>> UpdateCatalogItems(final UpdateCatalogItemsRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<UpdateCatalogItemsResult>>() {
+                public PlayFabResult<UpdateCatalogItemsResult> call() throws Exception {
+                    return PlayFabAdminAPI.privateUpdateCatalogItemsAsync(PlayFabAdminInstanceAPI.this, request);
+                }
+            });
+        }
+
+        /**
+         * Creates a new Cloud Script revision and uploads source code to it. Note that at this time, only one file should be
+         * submitted in the revision.
+         * @param request UpdateCloudScriptRequest
+         * @return Running future that will complete with UpdateCloudScriptResult
+         */
+        public PlayFabFuture<PlayFabResult<UpdateCloudScriptResult>> UpdateCloudScript(final UpdateCloudScriptRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<UpdateCloudScriptResult>>() {
+                public PlayFabResult<UpdateCloudScriptResult> call() throws Exception {
+                    return PlayFabAdminAPI.privateUpdateCloudScriptAsync(PlayFabAdminInstanceAPI.this, request);
+                }
+            });
+        }
+
+        /**
+         * Modifies data and credentials for an existing relationship between a title and an Open ID Connect provider
+         * @param request UpdateOpenIdConnectionRequest
+         * @return Running future that will complete with EmptyResponse
+         */
+        public PlayFabFuture<PlayFabResult<EmptyResponse>> UpdateOpenIdConnection(final UpdateOpenIdConnectionRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<EmptyResponse>>() {
+                public PlayFabResult<EmptyResponse> call() throws Exception {
+                    return PlayFabAdminAPI.privateUpdateOpenIdConnectionAsync(PlayFabAdminInstanceAPI.this, request);
+                }
+            });
+        }
+
+        /**
+         * Updates a existing Player Shared Secret Key. It may take up to 5 minutes for this update to become generally available
+         * after this API returns.
+         * @param request UpdatePlayerSharedSecretRequest
+         * @return Running future that will complete with UpdatePlayerSharedSecretResult
+         */
+        public PlayFabFuture<PlayFabResult<UpdatePlayerSharedSecretResult>> UpdatePlayerSharedSecret(final UpdatePlayerSharedSecretRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<UpdatePlayerSharedSecretResult>>() {
+                public PlayFabResult<UpdatePlayerSharedSecretResult> call() throws Exception {
+                    return PlayFabAdminAPI.privateUpdatePlayerSharedSecretAsync(PlayFabAdminInstanceAPI.this, request);
+                }
+            });
+        }
+
+        /**
+         * Updates a player statistic configuration for the title, optionally allowing the developer to specify a reset interval.
+         * @param request UpdatePlayerStatisticDefinitionRequest
+         * @return Running future that will complete with UpdatePlayerStatisticDefinitionResult
+         */
+        public PlayFabFuture<PlayFabResult<UpdatePlayerStatisticDefinitionResult>> UpdatePlayerStatisticDefinition(final UpdatePlayerStatisticDefinitionRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<UpdatePlayerStatisticDefinitionResult>>() {
+                public PlayFabResult<UpdatePlayerStatisticDefinitionResult> call() throws Exception {
+                    return PlayFabAdminAPI.privateUpdatePlayerStatisticDefinitionAsync(PlayFabAdminInstanceAPI.this, request);
+                }
+            });
+        }
+
+        /**
+         * Changes a policy for a title
+         * @param request UpdatePolicyRequest
+         * @return Running future that will complete with UpdatePolicyResponse
+         */
+        public PlayFabFuture<PlayFabResult<UpdatePolicyResponse>> UpdatePolicy(final UpdatePolicyRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<UpdatePolicyResponse>>() {
+                public PlayFabResult<UpdatePolicyResponse> call() throws Exception {
+                    return PlayFabAdminAPI.privateUpdatePolicyAsync(PlayFabAdminInstanceAPI.this, request);
+                }
+            });
+        }
+
+        /**
+         * Updates the random drop table configuration for the title
+         * @param request UpdateRandomResultTablesRequest
+         * @return Running future that will complete with UpdateRandomResultTablesResult
+         */
+        public PlayFabFuture<PlayFabResult<UpdateRandomResultTablesResult>> UpdateRandomResultTables(final UpdateRandomResultTablesRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<UpdateRandomResultTablesResult>>() {
+                public PlayFabResult<UpdateRandomResultTablesResult> call() throws Exception {
+                    return PlayFabAdminAPI.privateUpdateRandomResultTablesAsync(PlayFabAdminInstanceAPI.this, request);
+                }
+            });
+        }
+
+        /**
+         * Updates an existing player segment and its associated definition(s) and action(s) for a title.
+         * @param request UpdateSegmentRequest
+         * @return Running future that will complete with UpdateSegmentResponse
+         */
+        public PlayFabFuture<PlayFabResult<UpdateSegmentResponse>> UpdateSegment(final UpdateSegmentRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<UpdateSegmentResponse>>() {
+                public PlayFabResult<UpdateSegmentResponse> call() throws Exception {
+                    return PlayFabAdminAPI.privateUpdateSegmentAsync(PlayFabAdminInstanceAPI.this, request);
+                }
+            });
+        }
+
+        /**
+         * Updates an existing virtual item store with new or modified items
+         * @param request UpdateStoreItemsRequest
+         * @return Running future that will complete with UpdateStoreItemsResult
+         */
+        public PlayFabFuture<PlayFabResult<UpdateStoreItemsResult>> UpdateStoreItems(final UpdateStoreItemsRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<UpdateStoreItemsResult>>() {
+                public PlayFabResult<UpdateStoreItemsResult> call() throws Exception {
+                    return PlayFabAdminAPI.privateUpdateStoreItemsAsync(PlayFabAdminInstanceAPI.this, request);
+                }
+            });
+        }
+
+        /**
+         * Update an existing task.
+         * @param request UpdateTaskRequest
+         * @return Running future that will complete with EmptyResponse
+         */
+        public PlayFabFuture<PlayFabResult<EmptyResponse>> UpdateTask(final UpdateTaskRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<EmptyResponse>>() {
+                public PlayFabResult<EmptyResponse> call() throws Exception {
+                    return PlayFabAdminAPI.privateUpdateTaskAsync(PlayFabAdminInstanceAPI.this, request);
+                }
+            });
+        }
+
+        /**
+         * Updates the title-specific custom data for the user which is readable and writable by the client
+         * @param request UpdateUserDataRequest
+         * @return Running future that will complete with UpdateUserDataResult
+         */
+        public PlayFabFuture<PlayFabResult<UpdateUserDataResult>> UpdateUserData(final UpdateUserDataRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<UpdateUserDataResult>>() {
+                public PlayFabResult<UpdateUserDataResult> call() throws Exception {
+                    return PlayFabAdminAPI.privateUpdateUserDataAsync(PlayFabAdminInstanceAPI.this, request);
+                }
+            });
+        }
+
+        /**
+         * Updates the title-specific custom data for the user which cannot be accessed by the client
+         * @param request UpdateUserInternalDataRequest
+         * @return Running future that will complete with UpdateUserDataResult
+         */
+        public PlayFabFuture<PlayFabResult<UpdateUserDataResult>> UpdateUserInternalData(final UpdateUserInternalDataRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<UpdateUserDataResult>>() {
+                public PlayFabResult<UpdateUserDataResult> call() throws Exception {
+                    return PlayFabAdminAPI.privateUpdateUserInternalDataAsync(PlayFabAdminInstanceAPI.this, request);
+                }
+            });
+        }
+
+        /**
+         * Updates the publisher-specific custom data for the user which is readable and writable by the client
+         * @param request UpdateUserDataRequest
+         * @return Running future that will complete with UpdateUserDataResult
+         */
+        public PlayFabFuture<PlayFabResult<UpdateUserDataResult>> UpdateUserPublisherData(final UpdateUserDataRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<UpdateUserDataResult>>() {
+                public PlayFabResult<UpdateUserDataResult> call() throws Exception {
+                    return PlayFabAdminAPI.privateUpdateUserPublisherDataAsync(PlayFabAdminInstanceAPI.this, request);
+                }
+            });
+        }
+
+        /**
+         * Updates the publisher-specific custom data for the user which cannot be accessed by the client
+         * @param request UpdateUserInternalDataRequest
+         * @return Running future that will complete with UpdateUserDataResult
+         */
+        public PlayFabFuture<PlayFabResult<UpdateUserDataResult>> UpdateUserPublisherInternalData(final UpdateUserInternalDataRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<UpdateUserDataResult>>() {
+                public PlayFabResult<UpdateUserDataResult> call() throws Exception {
+                    return PlayFabAdminAPI.privateUpdateUserPublisherInternalDataAsync(PlayFabAdminInstanceAPI.this, request);
+                }
+            });
+        }
+
+        /**
+         * Updates the publisher-specific custom data for the user which can only be read by the client
+         * @param request UpdateUserDataRequest
+         * @return Running future that will complete with UpdateUserDataResult
+         */
+        public PlayFabFuture<PlayFabResult<UpdateUserDataResult>> UpdateUserPublisherReadOnlyData(final UpdateUserDataRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<UpdateUserDataResult>>() {
+                public PlayFabResult<UpdateUserDataResult> call() throws Exception {
+                    return PlayFabAdminAPI.privateUpdateUserPublisherReadOnlyDataAsync(PlayFabAdminInstanceAPI.this, request);
+                }
+            });
+        }
+
+        /**
+         * Updates the title-specific custom data for the user which can only be read by the client
+         * @param request UpdateUserDataRequest
+         * @return Running future that will complete with UpdateUserDataResult
+         */
+        public PlayFabFuture<PlayFabResult<UpdateUserDataResult>> UpdateUserReadOnlyData(final UpdateUserDataRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<UpdateUserDataResult>>() {
+                public PlayFabResult<UpdateUserDataResult> call() throws Exception {
+                    return PlayFabAdminAPI.privateUpdateUserReadOnlyDataAsync(PlayFabAdminInstanceAPI.this, request);
+                }
+            });
+        }
+
+        /**
+         * Updates the title specific display name for a user
+         * @param request UpdateUserTitleDisplayNameRequest
+         * @return Running future that will complete with UpdateUserTitleDisplayNameResult
+         */
+        public PlayFabFuture<PlayFabResult<UpdateUserTitleDisplayNameResult>> UpdateUserTitleDisplayName(final UpdateUserTitleDisplayNameRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<UpdateUserTitleDisplayNameResult>>() {
+                public PlayFabResult<UpdateUserTitleDisplayNameResult> call() throws Exception {
+                    return PlayFabAdminAPI.privateUpdateUserTitleDisplayNameAsync(PlayFabAdminInstanceAPI.this, request);
+                }
+            });
+        }
+    }
+}
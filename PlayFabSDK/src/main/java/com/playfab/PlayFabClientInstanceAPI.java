@@ -0,0 +1,4771 @@
+package com.playfab;
+
+import com.playfab.internal.*;
+import com.playfab.PlayFabClientModels.*;
+import com.playfab.PlayFabErrors.*;
+import com.playfab.PlayFabSettings;
+import java.util.concurrent.*;
+import java.util.*;
+
+    /**
+     * The calls of PlayFabClientAPI, made with a PlayFabApiContext of this object's own instead of PlayFabSettings. Login
+     * and GetEntityToken calls keep the credentials they return in that context
+     */
+public class PlayFabClientInstanceAPI extends PlayFabInstanceAPI {
+    private final Async async = new Async();
+
+    public PlayFabClientInstanceAPI(PlayFabApiContext context) {
+        super(context);
+    }
+
+    /**
+     * Accepts an open trade (one that has not yet been accepted or cancelled), if the locally signed-in player is in the
+     * allowed player list for the trade, or it is open to all players. If the call is successful, the offered and accepted
+     * items will be swapped between the two players' inventories.
+     * @param request AcceptTradeRequest
+     * @return AcceptTradeResponse
+     */
+    public PlayFabResult<AcceptTradeResponse> AcceptTrade(final AcceptTradeRequest request) {
+        try {
+            return PlayFabClientAPI.privateAcceptTradeAsync(this, request);
+        } catch(Exception e) {
+            PlayFabResult<AcceptTradeResponse> exceptionResult = new PlayFabResult<AcceptTradeResponse>();
+            exceptionResult.Error = PlayFabHTTP.GeneratePfError(-1, PlayFabErrorCode.Unknown, e.getMessage(), null, null);
+            return exceptionResult;
+        }
+    }
+
+    /**
+     * Adds the PlayFab user, based upon a match against a supplied unique identifier, to the friend list of the local user. At
+     * least one of FriendPlayFabId,FriendUsername,FriendEmail, or FriendTitleDisplayName should be initialized.
+     * @param request AddFriendRequest
+     * @return AddFriendResult
+     */
+    public PlayFabResult<AddFriendResult> AddFriend(final AddFriendRequest request) {
+        try {
+            return PlayFabClientAPI.privateAddFriendAsync(this, request);
+        } catch(Exception e) {
+            PlayFabResult<AddFriendResult> exceptionResult = new PlayFabResult<AddFriendResult>();
+            exceptionResult.Error = PlayFabHTTP.GeneratePfError(-1, PlayFabErrorCode.Unknown, e.getMessage(), null, null);
+            return exceptionResult;
+        }
+    }
+
+    /**
+     * Adds the specified generic service identifier to the player's PlayFab account. This is designed to allow for a PlayFab
+     * ID lookup of any arbitrary service identifier a title wants to add. This identifier should never be used as
+     * authentication credentials, as the intent is that it is easily accessible by other players.
+     * @param request AddGenericIDRequest
+     * @return AddGenericIDResult
+     */
+    public PlayFabResult<AddGenericIDResult> AddGenericID(final AddGenericIDRequest request) {
+        try {
+            return PlayFabClientAPI.privateAddGenericIDAsync(this, request);
+        } catch(Exception e) {
+            PlayFabResult<AddGenericIDResult> exceptionResult = new PlayFabResult<AddGenericIDResult>();
+            exceptionResult.Error = PlayFabHTTP.GeneratePfError(-1, PlayFabErrorCode.Unknown, e.getMessage(), null, null);
+            return exceptionResult;
+        }
+    }
+
+    /**
+     * Adds or updates a contact email to the player's profile.
+     * @param request AddOrUpdateContactEmailRequest
+     * @return AddOrUpdateContactEmailResult
+     */
+    public PlayFabResult<AddOrUpdateContactEmailResult> AddOrUpdateContactEmail(final AddOrUpdateContactEmailRequest request) {
+        try {
+            return PlayFabClientAPI.privateAddOrUpdateContactEmailAsync(this, request);
+        } catch(Exception e) {
+            PlayFabResult<AddOrUpdateContactEmailResult> exceptionResult = new PlayFabResult<AddOrUpdateContactEmailResult>();
+            exceptionResult.Error = PlayFabHTTP.GeneratePfError(-1, PlayFabErrorCode.Unknown, e.getMessage(), null, null);
+            return exceptionResult;
+        }
+    }
+
+    /**
+     * Adds users to the set of those able to update both the shared data, as well as the set of users in the group. Only users
+     * in the group can add new members. Shared Groups are designed for sharing data between a very small number of players,
+     * please see our guide: https://docs.microsoft.com/gaming/playfab/features/social/groups/using-shared-group-data
+     * @param request AddSharedGroupMembersRequest
+     * @return AddSharedGroupMembersResult
+     */
+    public PlayFabResult<AddSharedGroupMembersResult> AddSharedGroupMembers(final AddSharedGroupMembersRequest request) {
+        try {
+            return PlayFabClientAPI.privateAddSharedGroupMembersAsync(this, request);
+        } catch(Exception e) {
+            PlayFabResult<AddSharedGroupMembersResult> exceptionResult = new PlayFabResult<AddSharedGroupMembersResult>();
+            exceptionResult.Error = PlayFabHTTP.GeneratePfError(-1, PlayFabErrorCode.Unknown, e.getMessage(), null, null);
+            return exceptionResult;
+        }
+    }
+
+    /**
+     * Adds playfab username/password auth to an existing account created via an anonymous auth method, e.g. automatic device
+     * ID login.
+     * @param request AddUsernamePasswordRequest
+     * @return AddUsernamePasswordResult
+     */
+    public PlayFabResult<AddUsernamePasswordResult> AddUsernamePassword(final AddUsernamePasswordRequest request) {
+        try {
+            return PlayFabClientAPI.privateAddUsernamePasswordAsync(this, request);
+        } catch(Exception e) {
+            PlayFabResult<AddUsernamePasswordResult> exceptionResult = new PlayFabResult<AddUsernamePasswordResult>();
+            exceptionResult.Error = PlayFabHTTP.GeneratePfError(-1, PlayFabErrorCode.Unknown, e.getMessage(), null, null);
+            return exceptionResult;
+        }
+    }
+
+    /**
+     * Increments the user's balance of the specified virtual currency by the stated amount
+     * @param request AddUserVirtualCurrencyRequest
+     * @return ModifyUserVirtualCurrencyResult
+     */
+    public PlayFabResult<ModifyUserVirtualCurrencyResult> AddUserVirtualCurrency(final AddUserVirtualCurrencyRequest request) {
+        try {
+            return PlayFabClientAPI.privateAddUserVirtualCurrencyAsync(this, request);
+        } catch(Exception e) {
+            PlayFabResult<ModifyUserVirtualCurrencyResult> exceptionResult = new PlayFabResult<ModifyUserVirtualCurrencyResult>();
+            exceptionResult.Error = PlayFabHTTP.GeneratePfError(-1, PlayFabErrorCode.Unknown, e.getMessage(), null, null);
+            return exceptionResult;
+        }
+    }
+
+    /**
+     * Registers the Android device to receive push notifications
+     * @param request AndroidDevicePushNotificationRegistrationRequest
+     * @return AndroidDevicePushNotificationRegistrationResult
+     */
+    public PlayFabResult<AndroidDevicePushNotificationRegistrationResult> AndroidDevicePushNotificationRegistration(final AndroidDevicePushNotificationRegistrationRequest request) {
+        try {
+            return PlayFabClientAPI.privateAndroidDevicePushNotificationRegistrationAsync(this, request);
+        } catch(Exception e) {
+            PlayFabResult<AndroidDevicePushNotificationRegistrationResult> exceptionResult = new PlayFabResult<AndroidDevicePushNotificationRegistrationResult>();
+            exceptionResult.Error = PlayFabHTTP.GeneratePfError(-1, PlayFabErrorCode.Unknown, e.getMessage(), null, null);
+            return exceptionResult;
+        }
+    }
+
+    /**
+     * Attributes an install for advertisment.
+     * @param request AttributeInstallRequest
+     * @return AttributeInstallResult
+     */
+    public PlayFabResult<AttributeInstallResult> AttributeInstall(final AttributeInstallRequest request) {
+        try {
+            return PlayFabClientAPI.privateAttributeInstallAsync(this, request);
+        } catch(Exception e) {
+            PlayFabResult<AttributeInstallResult> exceptionResult = new PlayFabResult<AttributeInstallResult>();
+            exceptionResult.Error = PlayFabHTTP.GeneratePfError(-1, PlayFabErrorCode.Unknown, e.getMessage(), null, null);
+            return exceptionResult;
+        }
+    }
+
+    /**
+     * Cancels an open trade (one that has not yet been accepted or cancelled). Note that only the player who created the trade
+     * can cancel it via this API call, to prevent griefing of the trade system (cancelling trades in order to prevent other
+     * players from accepting them, for trades that can be claimed by more than one player).
+     * @param request CancelTradeRequest
+     * @return CancelTradeResponse
+     */
+    public PlayFabResult<CancelTradeResponse> CancelTrade(final CancelTradeRequest request) {
+        try {
+            return PlayFabClientAPI.privateCancelTradeAsync(this, request);
+        } catch(Exception e) {
+            PlayFabResult<CancelTradeResponse> exceptionResult = new PlayFabResult<CancelTradeResponse>();
+            exceptionResult.Error = PlayFabHTTP.GeneratePfError(-1, PlayFabErrorCode.Unknown, e.getMessage(), null, null);
+            return exceptionResult;
+        }
+    }
+
+    /**
+     * Confirms with the payment provider that the purchase was approved (if applicable) and adjusts inventory and virtual
+     * currency balances as appropriate
+     * @param request ConfirmPurchaseRequest
+     * @return ConfirmPurchaseResult
+     */
+    public PlayFabResult<ConfirmPurchaseResult> ConfirmPurchase(final ConfirmPurchaseRequest request) {
+        try {
+            return PlayFabClientAPI.privateConfirmPurchaseAsync(this, request);
+        } catch(Exception e) {
+            PlayFabResult<ConfirmPurchaseResult> exceptionResult = new PlayFabResult<ConfirmPurchaseResult>();
+            exceptionResult.Error = PlayFabHTTP.GeneratePfError(-1, PlayFabErrorCode.Unknown, e.getMessage(), null, null);
+            return exceptionResult;
+        }
+    }
+
+    /**
+     * Consume uses of a consumable item. When all uses are consumed, it will be removed from the player's inventory.
+     * @param request ConsumeItemRequest
+     * @return ConsumeItemResult
+     */
+    public PlayFabResult<ConsumeItemResult> ConsumeItem(final ConsumeItemRequest request) {
+        try {
+            return PlayFabClientAPI.privateConsumeItemAsync(this, request);
+        } catch(Exception e) {
+            PlayFabResult<ConsumeItemResult> exceptionResult = new PlayFabResult<ConsumeItemResult>();
+            exceptionResult.Error = PlayFabHTTP.GeneratePfError(-1, PlayFabErrorCode.Unknown, e.getMessage(), null, null);
+            return exceptionResult;
+        }
+    }
+
+    /**
+     * Grants the player's current entitlements from Microsoft Store's Collection API
+     * @param request ConsumeMicrosoftStoreEntitlementsRequest
+     * @return ConsumeMicrosoftStoreEntitlementsResponse
+     */
+    public PlayFabResult<ConsumeMicrosoftStoreEntitlementsResponse> ConsumeMicrosoftStoreEntitlements(final ConsumeMicrosoftStoreEntitlementsRequest request) {
+        try {
+            return PlayFabClientAPI.privateConsumeMicrosoftStoreEntitlementsAsync(this, request);
+        } catch(Exception e) {
+            PlayFabResult<ConsumeMicrosoftStoreEntitlementsResponse> exceptionResult = new PlayFabResult<ConsumeMicrosoftStoreEntitlementsResponse>();
+            exceptionResult.Error = PlayFabHTTP.GeneratePfError(-1, PlayFabErrorCode.Unknown, e.getMessage(), null, null);
+            return exceptionResult;
+        }
+    }
+
+    /**
+     * Checks for any new PS5 entitlements. If any are found, they are consumed (if they're consumables) and added as PlayFab
+     * items
+     * @param request ConsumePS5EntitlementsRequest
+     * @return ConsumePS5EntitlementsResult
+     */
+    public PlayFabResult<ConsumePS5EntitlementsResult> ConsumePS5Entitlements(final ConsumePS5EntitlementsRequest request) {
+        try {
+            return PlayFabClientAPI.privateConsumePS5EntitlementsAsync(this, request);
+        } catch(Exception e) {
+            PlayFabResult<ConsumePS5EntitlementsResult> exceptionResult = new PlayFabResult<ConsumePS5EntitlementsResult>();
+            exceptionResult.Error = PlayFabHTTP.GeneratePfError(-1, PlayFabErrorCode.Unknown, e.getMessage(), null, null);
+            return exceptionResult;
+        }
+    }
+
+    /**
+     * Checks for any new consumable entitlements. If any are found, they are consumed and added as PlayFab items
+     * @param request ConsumePSNEntitlementsRequest
+     * @return ConsumePSNEntitlementsResult
+     */
+    public PlayFabResult<ConsumePSNEntitlementsResult> ConsumePSNEntitlements(final ConsumePSNEntitlementsRequest request) {
+        try {
+            return PlayFabClientAPI.privateConsumePSNEntitlementsAsync(this, request);
+        } catch(Exception e) {
+            PlayFabResult<ConsumePSNEntitlementsResult> exceptionResult = new PlayFabResult<ConsumePSNEntitlementsResult>();
+            exceptionResult.Error = PlayFabHTTP.GeneratePfError(-1, PlayFabErrorCode.Unknown, e.getMessage(), null, null);
+            return exceptionResult;
+        }
+    }
+
+    /**
+     * Grants the player's current entitlements from Xbox Live, consuming all availble items in Xbox and granting them to the
+     * player's PlayFab inventory. This call is idempotent and will not grant previously granted items to the player.
+     * @param request ConsumeXboxEntitlementsRequest
+     * @return ConsumeXboxEntitlementsResult
+     */
+    public PlayFabResult<ConsumeXboxEntitlementsResult> ConsumeXboxEntitlements(final ConsumeXboxEntitlementsRequest request) {
+        try {
+            return PlayFabClientAPI.privateConsumeXboxEntitlementsAsync(this, request);
+        } catch(Exception e) {
+            PlayFabResult<ConsumeXboxEntitlementsResult> exceptionResult = new PlayFabResult<ConsumeXboxEntitlementsResult>();
+            exceptionResult.Error = PlayFabHTTP.GeneratePfError(-1, PlayFabErrorCode.Unknown, e.getMessage(), null, null);
+            return exceptionResult;
+        }
+    }
+
+    /**
+     * Requests the creation of a shared group object, containing key/value pairs which may be updated by all members of the
+     * group. Upon creation, the current user will be the only member of the group. Shared Groups are designed for sharing data
+     * between a very small number of players, please see our guide:
+     * https://docs.microsoft.com/gaming/playfab/features/social/groups/using-shared-group-data
+     * @param request CreateSharedGroupRequest
+     * @return CreateSharedGroupResult
+     */
+    public PlayFabResult<CreateSharedGroupResult> CreateSharedGroup(final CreateSharedGroupRequest request) {
+        try {
+            return PlayFabClientAPI.privateCreateSharedGroupAsync(this, request);
+        } catch(Exception e) {
+            PlayFabResult<CreateSharedGroupResult> exceptionResult = new PlayFabResult<CreateSharedGroupResult>();
+            exceptionResult.Error = PlayFabHTTP.GeneratePfError(-1, PlayFabErrorCode.Unknown, e.getMessage(), null, null);
+            return exceptionResult;
+        }
+    }
+
+    /**
+     * Executes a CloudScript function, with the 'currentPlayerId' set to the PlayFab ID of the authenticated player.
+     * @param request ExecuteCloudScriptRequest
+     * @return ExecuteCloudScriptResult
+     */
+    public PlayFabResult<ExecuteCloudScriptResult> ExecuteCloudScript(final ExecuteCloudScriptRequest request) {
+        try {
+            return PlayFabClientAPI.privateExecuteCloudScriptAsync(this, request);
+        } catch(Exception e) {
+            PlayFabResult<ExecuteCloudScriptResult> exceptionResult = new PlayFabResult<ExecuteCloudScriptResult>();
+            exceptionResult.Error = PlayFabHTTP.GeneratePfError(-1, PlayFabErrorCode.Unknown, e.getMessage(), null, null);
+            return exceptionResult;
+        }
+    }
+
+    /**
+     * Retrieves the user's PlayFab account details
+     * @param request GetAccountInfoRequest
+     * @return GetAccountInfoResult
+     */
+    public PlayFabResult<GetAccountInfoResult> GetAccountInfo(final GetAccountInfoRequest request) {
+        try {
+            return PlayFabClientAPI.privateGetAccountInfoAsync(this, request);
+        } catch(Exception e) {
+            PlayFabResult<GetAccountInfoResult> exceptionResult = new PlayFabResult<GetAccountInfoResult>();
+            exceptionResult.Error = PlayFabHTTP.GeneratePfError(-1, PlayFabErrorCode.Unknown, e.getMessage(), null, null);
+            return exceptionResult;
+        }
+    }
+
+    /**
+     * Returns a list of ad placements and a reward for each
+     * @param request GetAdPlacementsRequest
+     * @return GetAdPlacementsResult
+     */
+    public PlayFabResult<GetAdPlacementsResult> GetAdPlacements(final GetAdPlacementsRequest request) {
+        try {
+            return PlayFabClientAPI.privateGetAdPlacementsAsync(this, request);
+        } catch(Exception e) {
+            PlayFabResult<GetAdPlacementsResult> exceptionResult = new PlayFabResult<GetAdPlacementsResult>();
+            exceptionResult.Error = PlayFabHTTP.GeneratePfError(-1, PlayFabErrorCode.Unknown, e.getMessage(), null, null);
+            return exceptionResult;
+        }
+    }
+
+    /**
+     * Lists all of the characters that belong to a specific user. CharacterIds are not globally unique; characterId must be
+     * evaluated with the parent PlayFabId to guarantee uniqueness.
+     * @param request ListUsersCharactersRequest
+     * @return ListUsersCharactersResult
+     */
+    public PlayFabResult<ListUsersCharactersResult> GetAllUsersCharacters(final ListUsersCharactersRequest request) {
+        try {
+            return PlayFabClientAPI.privateGetAllUsersCharactersAsync(this, request);
+        } catch(Exception e) {
+            PlayFabResult<ListUsersCharactersResult> exceptionResult = new PlayFabResult<ListUsersCharactersResult>();
+            exceptionResult.Error = PlayFabHTTP.GeneratePfError(-1, PlayFabErrorCode.Unknown, e.getMessage(), null, null);
+            return exceptionResult;
+        }
+    }
+
+    /**
+     * Retrieves the specified version of the title's catalog of virtual goods, including all defined properties
+     * @param request GetCatalogItemsRequest
+     * @return GetCatalogItemsResult
+     */
+    public PlayFabResult<GetCatalogItemsResult> GetCatalogItems(final GetCatalogItemsRequest request) {
+        try {
+            return PlayFabClientAPI.privateGetCatalogItemsAsync(this, request);
+        } catch(Exception e) {
+            PlayFabResult<GetCatalogItemsResult> exceptionResult = new PlayFabResult<GetCatalogItemsResult>();
+            exceptionResult.Error = PlayFabHTTP.GeneratePfError(-1, PlayFabErrorCode.Unknown, e.getMessage(), null, null);
+            return exceptionResult;
+        }
+    }
+
+    /**
+     * Retrieves the title-specific custom data for the character which is readable and writable by the client
+     * @param request GetCharacterDataRequest
+     * @return GetCharacterDataResult
+     */
+    public PlayFabResult<GetCharacterDataResult> GetCharacterData(final GetCharacterDataRequest request) {
+        try {
+            return PlayFabClientAPI.privateGetCharacterDataAsync(this, request);
+        } catch(Exception e) {
+            PlayFabResult<GetCharacterDataResult> exceptionResult = new PlayFabResult<GetCharacterDataResult>();
+            exceptionResult.Error = PlayFabHTTP.GeneratePfError(-1, PlayFabErrorCode.Unknown, e.getMessage(), null, null);
+            return exceptionResult;
+        }
+    }
+
+    /**
+     * Retrieves the specified character's current inventory of virtual goods
+     * @param request GetCharacterInventoryRequest
+     * @return GetCharacterInventoryResult
+     */
+    public PlayFabResult<GetCharacterInventoryResult> GetCharacterInventory(final GetCharacterInventoryRequest request) {
+        try {
+            return PlayFabClientAPI.privateGetCharacterInventoryAsync(this, request);
+        } catch(Exception e) {
+            PlayFabResult<GetCharacterInventoryResult> exceptionResult = new PlayFabResult<GetCharacterInventoryResult>();
+            exceptionResult.Error = PlayFabHTTP.GeneratePfError(-1, PlayFabErrorCode.Unknown, e.getMessage(), null, null);
+            return exceptionResult;
+        }
+    }
+
+    /**
+     * Retrieves a list of ranked characters for the given statistic, starting from the indicated point in the leaderboard
+     * @param request GetCharacterLeaderboardRequest
+     * @return GetCharacterLeaderboardResult
+     */
+    public PlayFabResult<GetCharacterLeaderboardResult> GetCharacterLeaderboard(final GetCharacterLeaderboardRequest request) {
+        try {
+            return PlayFabClientAPI.privateGetCharacterLeaderboardAsync(this, request);
+        } catch(Exception e) {
+            PlayFabResult<GetCharacterLeaderboardResult> exceptionResult = new PlayFabResult<GetCharacterLeaderboardResult>();
+            exceptionResult.Error = PlayFabHTTP.GeneratePfError(-1, PlayFabErrorCode.Unknown, e.getMessage(), null, null);
+            return exceptionResult;
+        }
+    }
+
+    /**
+     * Retrieves the title-specific custom data for the character which can only be read by the client
+     * @param request GetCharacterDataRequest
+     * @return GetCharacterDataResult
+     */
+    public PlayFabResult<GetCharacterDataResult> GetCharacterReadOnlyData(final GetCharacterDataRequest request) {
+        try {
+            return PlayFabClientAPI.privateGetCharacterReadOnlyDataAsync(this, request);
+        } catch(Exception e) {
+            PlayFabResult<GetCharacterDataResult> exceptionResult = new PlayFabResult<GetCharacterDataResult>();
+            exceptionResult.Error = PlayFabHTTP.GeneratePfError(-1, PlayFabErrorCode.Unknown, e.getMessage(), null, null);
+            return exceptionResult;
+        }
+    }
+
+    /**
+     * Retrieves the details of all title-specific statistics for the user
+     * @param request GetCharacterStatisticsRequest
+     * @return GetCharacterStatisticsResult
+     */
+    public PlayFabResult<GetCharacterStatisticsResult> GetCharacterStatistics(final GetCharacterStatisticsRequest request) {
+        try {
+            return PlayFabClientAPI.privateGetCharacterStatisticsAsync(this, request);
+        } catch(Exception e) {
+            PlayFabResult<GetCharacterStatisticsResult> exceptionResult = new PlayFabResult<GetCharacterStatisticsResult>();
+            exceptionResult.Error = PlayFabHTTP.GeneratePfError(-1, PlayFabErrorCode.Unknown, e.getMessage(), null, null);
+            return exceptionResult;
+        }
+    }
+
+    /**
+     * This API retrieves a pre-signed URL for accessing a content file for the title. A subsequent HTTP GET to the returned
+     * URL will attempt to download the content. A HEAD query to the returned URL will attempt to retrieve the metadata of the
+     * content. Note that a successful result does not guarantee the existence of this content - if it has not been uploaded,
+     * the query to retrieve the data will fail. See this post for more information:
+     * https://community.playfab.com/hc/community/posts/205469488-How-to-upload-files-to-PlayFab-s-Content-Service. Also,
+     * please be aware that the Content service is specifically PlayFab's CDN offering, for which standard CDN rates apply.
+     * @param request GetContentDownloadUrlRequest
+     * @return GetContentDownloadUrlResult
+     */
+    public PlayFabResult<GetContentDownloadUrlResult> GetContentDownloadUrl(final GetContentDownloadUrlRequest request) {
+        try {
+            return PlayFabClientAPI.privateGetContentDownloadUrlAsync(this, request);
+        } catch(Exception e) {
+            PlayFabResult<GetContentDownloadUrlResult> exceptionResult = new PlayFabResult<GetContentDownloadUrlResult>();
+            exceptionResult.Error = PlayFabHTTP.GeneratePfError(-1, PlayFabErrorCode.Unknown, e.getMessage(), null, null);
+            return exceptionResult;
+        }
+    }
+
+    /**
+     * Get details about all current running game servers matching the given parameters.
+     * @param request CurrentGamesRequest
+     * @return CurrentGamesResult
+     */
+    public PlayFabResult<CurrentGamesResult> GetCurrentGames(final CurrentGamesRequest request) {
+        try {
+            return PlayFabClientAPI.privateGetCurrentGamesAsync(this, request);
+        } catch(Exception e) {
+            PlayFabResult<CurrentGamesResult> exceptionResult = new PlayFabResult<CurrentGamesResult>();
+            exceptionResult.Error = PlayFabHTTP.GeneratePfError(-1, PlayFabErrorCode.Unknown, e.getMessage(), null, null);
+            return exceptionResult;
+        }
+    }
+
+    /**
+     * Retrieves a list of ranked friends of the current player for the given statistic, starting from the indicated point in
+     * the leaderboard
+     * @param request GetFriendLeaderboardRequest
+     * @return GetLeaderboardResult
+     */
+    public PlayFabResult<GetLeaderboardResult> GetFriendLeaderboard(final GetFriendLeaderboardRequest request) {
+        try {
+            return PlayFabClientAPI.privateGetFriendLeaderboardAsync(this, request);
+        } catch(Exception e) {
+            PlayFabResult<GetLeaderboardResult> exceptionResult = new PlayFabResult<GetLeaderboardResult>();
+            exceptionResult.Error = PlayFabHTTP.GeneratePfError(-1, PlayFabErrorCode.Unknown, e.getMessage(), null, null);
+            return exceptionResult;
+        }
+    }
+
+    /**
+     * Retrieves a list of ranked friends of the current player for the given statistic, centered on the requested PlayFab
+     * user. If PlayFabId is empty or null will return currently logged in user.
+     * @param request GetFriendLeaderboardAroundPlayerRequest
+     * @return GetFriendLeaderboardAroundPlayerResult
+     */
+    public PlayFabResult<GetFriendLeaderboardAroundPlayerResult> GetFriendLeaderboardAroundPlayer(final GetFriendLeaderboardAroundPlayerRequest request) {
+        try {
+            return PlayFabClientAPI.privateGetFriendLeaderboardAroundPlayerAsync(this, request);
+        } catch(Exception e) {
+            PlayFabResult<GetFriendLeaderboardAroundPlayerResult> exceptionResult = new PlayFabResult<GetFriendLeaderboardAroundPlayerResult>();
+            exceptionResult.Error = PlayFabHTTP.GeneratePfError(-1, PlayFabErrorCode.Unknown, e.getMessage(), null, null);
+            return exceptionResult;
+        }
+    }
+
+    /**
+     * Retrieves the current friend list for the local user, constrained to users who have PlayFab accounts. Friends from
+     * linked accounts (Facebook, Steam) are also included. You may optionally exclude some linked services' friends.
+     * @param request GetFriendsListRequest
+     * @return GetFriendsListResult
+     */
+    public PlayFabResult<GetFriendsListResult> GetFriendsList(final GetFriendsListRequest request) {
+        try {
+            return PlayFabClientAPI.privateGetFriendsListAsync(this, request);
+        } catch(Exception e) {
+            PlayFabResult<GetFriendsListResult> exceptionResult = new PlayFabResult<GetFriendsListResult>();
+            exceptionResult.Error = PlayFabHTTP.GeneratePfError(-1, PlayFabErrorCode.Unknown, e.getMessage(), null, null);
+            return exceptionResult;
+        }
+    }
+
+    /**
+     * Get details about the regions hosting game servers matching the given parameters.
+     * @param request GameServerRegionsRequest
+     * @return GameServerRegionsResult
+     */
+    public PlayFabResult<GameServerRegionsResult> GetGameServerRegions(final GameServerRegionsRequest request) {
+        try {
+            return PlayFabClientAPI.privateGetGameServerRegionsAsync(this, request);
+        } catch(Exception e) {
+            PlayFabResult<GameServerRegionsResult> exceptionResult = new PlayFabResult<GameServerRegionsResult>();
+            exceptionResult.Error = PlayFabHTTP.GeneratePfError(-1, PlayFabErrorCode.Unknown, e.getMessage(), null, null);
+            return exceptionResult;
+        }
+    }
+
+    /**
+     * Retrieves a list of ranked users for the given statistic, starting from the indicated point in the leaderboard
+     * @param request GetLeaderboardRequest
+     * @return GetLeaderboardResult
+     */
+    public PlayFabResult<GetLeaderboardResult> GetLeaderboard(final GetLeaderboardRequest request) {
+        try {
+            return PlayFabClientAPI.privateGetLeaderboardAsync(this, request);
+        } catch(Exception e) {
+            PlayFabResult<GetLeaderboardResult> exceptionResult = new PlayFabResult<GetLeaderboardResult>();
+            exceptionResult.Error = PlayFabHTTP.GeneratePfError(-1, PlayFabErrorCode.Unknown, e.getMessage(), null, null);
+            return exceptionResult;
+        }
+    }
+
+    /**
+     * Retrieves a list of ranked characters for the given statistic, centered on the requested Character ID
+     * @param request GetLeaderboardAroundCharacterRequest
+     * @return GetLeaderboardAroundCharacterResult
+     */
+    public PlayFabResult<GetLeaderboardAroundCharacterResult> GetLeaderboardAroundCharacter(final GetLeaderboardAroundCharacterRequest request) {
+        try {
+            return PlayFabClientAPI.privateGetLeaderboardAroundCharacterAsync(this, request);
+        } catch(Exception e) {
+            PlayFabResult<GetLeaderboardAroundCharacterResult> exceptionResult = new PlayFabResult<GetLeaderboardAroundCharacterResult>();
+            exceptionResult.Error = PlayFabHTTP.GeneratePfError(-1, PlayFabErrorCode.Unknown, e.getMessage(), null, null);
+            return exceptionResult;
+        }
+    }
+
+    /**
+     * Retrieves a list of ranked users for the given statistic, centered on the requested player. If PlayFabId is empty or
+     * null will return currently logged in user.
+     * @param request GetLeaderboardAroundPlayerRequest
+     * @return GetLeaderboardAroundPlayerResult
+     */
+    public PlayFabResult<GetLeaderboardAroundPlayerResult> GetLeaderboardAroundPlayer(final GetLeaderboardAroundPlayerRequest request) {
+        try {
+            return PlayFabClientAPI.privateGetLeaderboardAroundPlayerAsync(this, request);
+        } catch(Exception e) {
+            PlayFabResult<GetLeaderboardAroundPlayerResult> exceptionResult = new PlayFabResult<GetLeaderboardAroundPlayerResult>();
+            exceptionResult.Error = PlayFabHTTP.GeneratePfError(-1, PlayFabErrorCode.Unknown, e.getMessage(), null, null);
+            return exceptionResult;
+        }
+    }
+
+    /**
+     * Retrieves a list of all of the user's characters for the given statistic.
+     * @param request GetLeaderboardForUsersCharactersRequest
+     * @return GetLeaderboardForUsersCharactersResult
+     */
+    public PlayFabResult<GetLeaderboardForUsersCharactersResult> GetLeaderboardForUserCharacters(final GetLeaderboardForUsersCharactersRequest request) {
+        try {
+            return PlayFabClientAPI.privateGetLeaderboardForUserCharactersAsync(this, request);
+        } catch(Exception e) {
+            PlayFabResult<GetLeaderboardForUsersCharactersResult> exceptionResult = new PlayFabResult<GetLeaderboardForUsersCharactersResult>();
+            exceptionResult.Error = PlayFabHTTP.GeneratePfError(-1, PlayFabErrorCode.Unknown, e.getMessage(), null, null);
+            return exceptionResult;
+        }
+    }
+
+    /**
+     * For payments flows where the provider requires playfab (the fulfiller) to initiate the transaction, but the client
+     * completes the rest of the flow. In the Xsolla case, the token returned here will be passed to Xsolla by the client to
+     * create a cart. Poll GetPurchase using the returned OrderId once you've completed the payment.
+     * @param request GetPaymentTokenRequest
+     * @return GetPaymentTokenResult
+     */
+    public PlayFabResult<GetPaymentTokenResult> GetPaymentToken(final GetPaymentTokenRequest request) {
+        try {
+            return PlayFabClientAPI.privateGetPaymentTokenAsync(this, request);
+        } catch(Exception e) {
+            PlayFabResult<GetPaymentTokenResult> exceptionResult = new PlayFabResult<GetPaymentTokenResult>();
+            exceptionResult.Error = PlayFabHTTP.GeneratePfError(-1, PlayFabErrorCode.Unknown, e.getMessage(), null, null);
+            return exceptionResult;
+        }
+    }
+
+    /**
+     * Gets a Photon custom authentication token that can be used to securely join the player into a Photon room. See
+     * https://docs.microsoft.com/gaming/playfab/features/multiplayer/photon/quickstart for more details.
+     * @param request GetPhotonAuthenticationTokenRequest
+     * @return GetPhotonAuthenticationTokenResult
+     */
+    public PlayFabResult<GetPhotonAuthenticationTokenResult> GetPhotonAuthenticationToken(final GetPhotonAuthenticationTokenRequest request) {
+        try {
+            return PlayFabClientAPI.privateGetPhotonAuthenticationTokenAsync(this, request);
+        } catch(Exception e) {
+            PlayFabResult<GetPhotonAuthenticationTokenResult> exceptionResult = new PlayFabResult<GetPhotonAuthenticationTokenResult>();
+            exceptionResult.Error = PlayFabHTTP.GeneratePfError(-1, PlayFabErrorCode.Unknown, e.getMessage(), null, null);
+            return exceptionResult;
+        }
+    }
+
+    /**
+     * Retrieves all of the user's different kinds of info.
+     * @param request GetPlayerCombinedInfoRequest
+     * @return GetPlayerCombinedInfoResult
+     */
+    public PlayFabResult<GetPlayerCombinedInfoResult> GetPlayerCombinedInfo(final GetPlayerCombinedInfoRequest request) {
+        try {
+            return PlayFabClientAPI.privateGetPlayerCombinedInfoAsync(this, request);
+        } catch(Exception e) {
+            PlayFabResult<GetPlayerCombinedInfoResult> exceptionResult = new PlayFabResult<GetPlayerCombinedInfoResult>();
+            exceptionResult.Error = PlayFabHTTP.GeneratePfError(-1, PlayFabErrorCode.Unknown, e.getMessage(), null, null);
+            return exceptionResult;
+        }
+    }
+
+    /**
+     * Retrieves the player's profile
+     * @param request GetPlayerProfileRequest
+     * @return GetPlayerProfileResult
+     */
+    public PlayFabResult<GetPlayerProfileResult> GetPlayerProfile(final GetPlayerProfileRequest request) {
+        try {
+            return PlayFabClientAPI.privateGetPlayerProfileAsync(this, request);
+        } catch(Exception e) {
+            PlayFabResult<GetPlayerProfileResult> exceptionResult = new PlayFabResult<GetPlayerProfileResult>();
+            exceptionResult.Error = PlayFabHTTP.GeneratePfError(-1, PlayFabErrorCode.Unknown, e.getMessage(), null, null);
+            return exceptionResult;
+        }
+    }
+
+    /**
+     * List all segments that a player currently belongs to at this moment in time.
+     * @param request GetPlayerSegmentsRequest
+     * @return GetPlayerSegmentsResult
+     */
+    public PlayFabResult<GetPlayerSegmentsResult> GetPlayerSegments(final GetPlayerSegmentsRequest request) {
+        try {
+            return PlayFabClientAPI.privateGetPlayerSegmentsAsync(this, request);
+        } catch(Exception e) {
+            PlayFabResult<GetPlayerSegmentsResult> exceptionResult = new PlayFabResult<GetPlayerSegmentsResult>();
+            exceptionResult.Error = PlayFabHTTP.GeneratePfError(-1, PlayFabErrorCode.Unknown, e.getMessage(), null, null);
+            return exceptionResult;
+        }
+    }
+
+    /**
+     * Retrieves the indicated statistics (current version and values for all statistics, if none are specified), for the local
+     * player.
+     * @param request GetPlayerStatisticsRequest
+     * @return GetPlayerStatisticsResult
+     */
+    public PlayFabResult<GetPlayerStatisticsResult> GetPlayerStatistics(final GetPlayerStatisticsRequest request) {
+        try {
+            return PlayFabClientAPI.privateGetPlayerStatisticsAsync(this, request);
+        } catch(Exception e) {
+            PlayFabResult<GetPlayerStatisticsResult> exceptionResult = new PlayFabResult<GetPlayerStatisticsResult>();
+            exceptionResult.Error = PlayFabHTTP.GeneratePfError(-1, PlayFabErrorCode.Unknown, e.getMessage(), null, null);
+            return exceptionResult;
+        }
+    }
+
+    /**
+     * Retrieves the information on the available versions of the specified statistic.
+     * @param request GetPlayerStatisticVersionsRequest
+     * @return GetPlayerStatisticVersionsResult
+     */
+    public PlayFabResult<GetPlayerStatisticVersionsResult> GetPlayerStatisticVersions(final GetPlayerStatisticVersionsRequest request) {
+        try {
+            return PlayFabClientAPI.privateGetPlayerStatisticVersionsAsync(this, request);
+        } catch(Exception e) {
+            PlayFabResult<GetPlayerStatisticVersionsResult> exceptionResult = new PlayFabResult<GetPlayerStatisticVersionsResult>();
+            exceptionResult.Error = PlayFabHTTP.GeneratePfError(-1, PlayFabErrorCode.Unknown, e.getMessage(), null, null);
+            return exceptionResult;
+        }
+    }
+
+    /**
+     * Get all tags with a given Namespace (optional) from a player profile.
+     * @param request GetPlayerTagsRequest
+     * @return GetPlayerTagsResult
+     */
+    public PlayFabResult<GetPlayerTagsResult> GetPlayerTags(final GetPlayerTagsRequest request) {
+        try {
+            return PlayFabClientAPI.privateGetPlayerTagsAsync(this, request);
+        } catch(Exception e) {
+            PlayFabResult<GetPlayerTagsResult> exceptionResult = new PlayFabResult<GetPlayerTagsResult>();
+            exceptionResult.Error = PlayFabHTTP.GeneratePfError(-1, PlayFabErrorCode.Unknown, e.getMessage(), null, null);
+            return exceptionResult;
+        }
+    }
+
+    /**
+     * Gets all trades the player has either opened or accepted, optionally filtered by trade status.
+     * @param request GetPlayerTradesRequest
+     * @return GetPlayerTradesResponse
+     */
+    public PlayFabResult<GetPlayerTradesResponse> GetPlayerTrades(final GetPlayerTradesRequest request) {
+        try {
+            return PlayFabClientAPI.privateGetPlayerTradesAsync(this, request);
+        } catch(Exception e) {
+            PlayFabResult<GetPlayerTradesResponse> exceptionResult = new PlayFabResult<GetPlayerTradesResponse>();
+            exceptionResult.Error = PlayFabHTTP.GeneratePfError(-1, PlayFabErrorCode.Unknown, e.getMessage(), null, null);
+            return exceptionResult;
+        }
+    }
+
+    /**
+     * Retrieves the unique PlayFab identifiers for the given set of Facebook identifiers.
+     * @param request GetPlayFabIDsFromFacebookIDsRequest
+     * @return GetPlayFabIDsFromFacebookIDsResult
+     */
+    public PlayFabResult<GetPlayFabIDsFromFacebookIDsResult> GetPlayFabIDsFromFacebookIDs(final GetPlayFabIDsFromFacebookIDsRequest request) {
+        try {
+            return PlayFabClientAPI.privateGetPlayFabIDsFromFacebookIDsAsync(this, request);
+        } catch(Exception e) {
+            PlayFabResult<GetPlayFabIDsFromFacebookIDsResult> exceptionResult = new PlayFabResult<GetPlayFabIDsFromFacebookIDsResult>();
+            exceptionResult.Error = PlayFabHTTP.GeneratePfError(-1, PlayFabErrorCode.Unknown, e.getMessage(), null, null);
+            return exceptionResult;
+        }
+    }
+
+    /**
+     * Retrieves the unique PlayFab identifiers for the given set of Facebook Instant Game identifiers.
+     * @param request GetPlayFabIDsFromFacebookInstantGamesIdsRequest
+     * @return GetPlayFabIDsFromFacebookInstantGamesIdsResult
+     */
+    public PlayFabResult<GetPlayFabIDsFromFacebookInstantGamesIdsResult> GetPlayFabIDsFromFacebookInstantGamesIds(final GetPlayFabIDsFromFacebookInstantGamesIdsRequest request) {
+        try {
+            return PlayFabClientAPI.privateGetPlayFabIDsFromFacebookInstantGamesIdsAsync(this, request);
+        } catch(Exception e) {
+            PlayFabResult<GetPlayFabIDsFromFacebookInstantGamesIdsResult> exceptionResult = new PlayFabResult<GetPlayFabIDsFromFacebookInstantGamesIdsResult>();
+            exceptionResult.Error = PlayFabHTTP.GeneratePfError(-1, PlayFabErrorCode.Unknown, e.getMessage(), null, null);
+            return exceptionResult;
+        }
+    }
+
+    /**
+     * Retrieves the unique PlayFab identifiers for the given set of Game Center identifiers (referenced in the Game Center
+     * Programming Guide as the Player Identifier).
+     * @param request GetPlayFabIDsFromGameCenterIDsRequest
+     * @return GetPlayFabIDsFromGameCenterIDsResult
+     */
+    public PlayFabResult<GetPlayFabIDsFromGameCenterIDsResult> GetPlayFabIDsFromGameCenterIDs(final GetPlayFabIDsFromGameCenterIDsRequest request) {
+        try {
+            return PlayFabClientAPI.privateGetPlayFabIDsFromGameCenterIDsAsync(this, request);
+        } catch(Exception e) {
+            PlayFabResult<GetPlayFabIDsFromGameCenterIDsResult> exceptionResult = new PlayFabResult<GetPlayFabIDsFromGameCenterIDsResult>();
+            exceptionResult.Error = PlayFabHTTP.GeneratePfError(-1, PlayFabErrorCode.Unknown, e.getMessage(), null, null);
+            return exceptionResult;
+        }
+    }
+
+    /**
+     * Retrieves the unique PlayFab identifiers for the given set of generic service identifiers. A generic identifier is the
+     * service name plus the service-specific ID for the player, as specified by the title when the generic identifier was
+     * added to the player account.
+     * @param request GetPlayFabIDsFromGenericIDsRequest
+     * @return GetPlayFabIDsFromGenericIDsResult
+     */
+    public PlayFabResult<GetPlayFabIDsFromGenericIDsResult> GetPlayFabIDsFromGenericIDs(final GetPlayFabIDsFromGenericIDsRequest request) {
+        try {
+            return PlayFabClientAPI.privateGetPlayFabIDsFromGenericIDsAsync(this, request);
+        } catch(Exception e) {
+            PlayFabResult<GetPlayFabIDsFromGenericIDsResult> exceptionResult = new PlayFabResult<GetPlayFabIDsFromGenericIDsResult>();
+            exceptionResult.Error = PlayFabHTTP.GeneratePfError(-1, PlayFabErrorCode.Unknown, e.getMessage(), null, null);
+            return exceptionResult;
+        }
+    }
+
+    /**
+     * Retrieves the unique PlayFab identifiers for the given set of Google identifiers. The Google identifiers are the IDs for
+     * the user accounts, available as "id" in the Google+ People API calls.
+     * @param request GetPlayFabIDsFromGoogleIDsRequest
+     * @return GetPlayFabIDsFromGoogleIDsResult
+     */
+    public PlayFabResult<GetPlayFabIDsFromGoogleIDsResult> GetPlayFabIDsFromGoogleIDs(final GetPlayFabIDsFromGoogleIDsRequest request) {
+        try {
+            return PlayFabClientAPI.privateGetPlayFabIDsFromGoogleIDsAsync(this, request);
+        } catch(Exception e) {
+            PlayFabResult<GetPlayFabIDsFromGoogleIDsResult> exceptionResult = new PlayFabResult<GetPlayFabIDsFromGoogleIDsResult>();
+            exceptionResult.Error = PlayFabHTTP.GeneratePfError(-1, PlayFabErrorCode.Unknown, e.getMessage(), null, null);
+            return exceptionResult;
+        }
+    }
+
+    /**
+     * Retrieves the unique PlayFab identifiers for the given set of Kongregate identifiers. The Kongregate identifiers are the
+     * IDs for the user accounts, available as "user_id" from the Kongregate API methods(ex:
+     * http://developers.kongregate.com/docs/client/getUserId).
+     * @param request GetPlayFabIDsFromKongregateIDsRequest
+     * @return GetPlayFabIDsFromKongregateIDsResult
+     */
+    public PlayFabResult<GetPlayFabIDsFromKongregateIDsResult> GetPlayFabIDsFromKongregateIDs(final GetPlayFabIDsFromKongregateIDsRequest request) {
+        try {
+            return PlayFabClientAPI.privateGetPlayFabIDsFromKongregateIDsAsync(this, request);
+        } catch(Exception e) {
+            PlayFabResult<GetPlayFabIDsFromKongregateIDsResult> exceptionResult = new PlayFabResult<GetPlayFabIDsFromKongregateIDsResult>();
+            exceptionResult.Error = PlayFabHTTP.GeneratePfError(-1, PlayFabErrorCode.Unknown, e.getMessage(), null, null);
+            return exceptionResult;
+        }
+    }
+
+    /**
+     * Retrieves the unique PlayFab identifiers for the given set of Nintendo Switch identifiers.
+     * @param request GetPlayFabIDsFromNintendoSwitchDeviceIdsRequest
+     * @return GetPlayFabIDsFromNintendoSwitchDeviceIdsResult
+     */
+    public PlayFabResult<GetPlayFabIDsFromNintendoSwitchDeviceIdsResult> GetPlayFabIDsFromNintendoSwitchDeviceIds(final GetPlayFabIDsFromNintendoSwitchDeviceIdsRequest request) {
+        try {
+            return PlayFabClientAPI.privateGetPlayFabIDsFromNintendoSwitchDeviceIdsAsync(this, request);
+        } catch(Exception e) {
+            PlayFabResult<GetPlayFabIDsFromNintendoSwitchDeviceIdsResult> exceptionResult = new PlayFabResult<GetPlayFabIDsFromNintendoSwitchDeviceIdsResult>();
+            exceptionResult.Error = PlayFabHTTP.GeneratePfError(-1, PlayFabErrorCode.Unknown, e.getMessage(), null, null);
+            return exceptionResult;
+        }
+    }
+
+    /**
+     * Retrieves the unique PlayFab identifiers for the given set of PlayStation Network identifiers.
+     * @param request GetPlayFabIDsFromPSNAccountIDsRequest
+     * @return GetPlayFabIDsFromPSNAccountIDsResult
+     */
+    public PlayFabResult<GetPlayFabIDsFromPSNAccountIDsResult> GetPlayFabIDsFromPSNAccountIDs(final GetPlayFabIDsFromPSNAccountIDsRequest request) {
+        try {
+            return PlayFabClientAPI.privateGetPlayFabIDsFromPSNAccountIDsAsync(this, request);
+        } catch(Exception e) {
+            PlayFabResult<GetPlayFabIDsFromPSNAccountIDsResult> exceptionResult = new PlayFabResult<GetPlayFabIDsFromPSNAccountIDsResult>();
+            exceptionResult.Error = PlayFabHTTP.GeneratePfError(-1, PlayFabErrorCode.Unknown, e.getMessage(), null, null);
+            return exceptionResult;
+        }
+    }
+
+    /**
+     * Retrieves the unique PlayFab identifiers for the given set of Steam identifiers. The Steam identifiers are the profile
+     * IDs for the user accounts, available as SteamId in the Steamworks Community API calls.
+     * @param request GetPlayFabIDsFromSteamIDsRequest
+     * @return GetPlayFabIDsFromSteamIDsResult
+     */
+    public PlayFabResult<GetPlayFabIDsFromSteamIDsResult> GetPlayFabIDsFromSteamIDs(final GetPlayFabIDsFromSteamIDsRequest request) {
+        try {
+            return PlayFabClientAPI.privateGetPlayFabIDsFromSteamIDsAsync(this, request);
+        } catch(Exception e) {
+            PlayFabResult<GetPlayFabIDsFromSteamIDsResult> exceptionResult = new PlayFabResult<GetPlayFabIDsFromSteamIDsResult>();
+            exceptionResult.Error = PlayFabHTTP.GeneratePfError(-1, PlayFabErrorCode.Unknown, e.getMessage(), null, null);
+            return exceptionResult;
+        }
+    }
+
+    /**
+     * Retrieves the unique PlayFab identifiers for the given set of Twitch identifiers. The Twitch identifiers are the IDs for
+     * the user accounts, available as "_id" from the Twitch API methods (ex:
+     * https://github.com/justintv/Twitch-API/blob/master/v3_resources/users.md#get-usersuser).
+     * @param request GetPlayFabIDsFromTwitchIDsRequest
+     * @return GetPlayFabIDsFromTwitchIDsResult
+     */
+    public PlayFabResult<GetPlayFabIDsFromTwitchIDsResult> GetPlayFabIDsFromTwitchIDs(final GetPlayFabIDsFromTwitchIDsRequest request) {
+        try {
+            return PlayFabClientAPI.privateGetPlayFabIDsFromTwitchIDsAsync(this, request);
+        } catch(Exception e) {
+            PlayFabResult<GetPlayFabIDsFromTwitchIDsResult> exceptionResult = new PlayFabResult<GetPlayFabIDsFromTwitchIDsResult>();
+            exceptionResult.Error = PlayFabHTTP.GeneratePfError(-1, PlayFabErrorCode.Unknown, e.getMessage(), null, null);
+            return exceptionResult;
+        }
+    }
+
+    /**
+     * Retrieves the unique PlayFab identifiers for the given set of XboxLive identifiers.
+     * @param request GetPlayFabIDsFromXboxLiveIDsRequest
+     * @return GetPlayFabIDsFromXboxLiveIDsResult
+     */
+    public PlayFabResult<GetPlayFabIDsFromXboxLiveIDsResult> GetPlayFabIDsFromXboxLiveIDs(final GetPlayFabIDsFromXboxLiveIDsRequest request) {
+        try {
+            return PlayFabClientAPI.privateGetPlayFabIDsFromXboxLiveIDsAsync(this, request);
+        } catch(Exception e) {
+            PlayFabResult<GetPlayFabIDsFromXboxLiveIDsResult> exceptionResult = new PlayFabResult<GetPlayFabIDsFromXboxLiveIDsResult>();
+            exceptionResult.Error = PlayFabHTTP.GeneratePfError(-1, PlayFabErrorCode.Unknown, e.getMessage(), null, null);
+            return exceptionResult;
+        }
+    }
+
+    /**
+     * Retrieves the key-value store of custom publisher settings
+     * @param request GetPublisherDataRequest
+     * @return GetPublisherDataResult
+     */
+    public PlayFabResult<GetPublisherDataResult> GetPublisherData(final GetPublisherDataRequest request) {
+        try {
+            return PlayFabClientAPI.privateGetPublisherDataAsync(this, request);
+        } catch(Exception e) {
+            PlayFabResult<GetPublisherDataResult> exceptionResult = new PlayFabResult<GetPublisherDataResult>();
+            exceptionResult.Error = PlayFabHTTP.GeneratePfError(-1, PlayFabErrorCode.Unknown, e.getMessage(), null, null);
+            return exceptionResult;
+        }
+    }
+
+    /**
+     * Retrieves a purchase along with its current PlayFab status. Returns inventory items from the purchase that are still
+     * active.
+     * @param request GetPurchaseRequest
+     * @return GetPurchaseResult
+     */
+    public PlayFabResult<GetPurchaseResult> GetPurchase(final GetPurchaseRequest request) {
+        try {
+            return PlayFabClientAPI.privateGetPurchaseAsync(this, request);
+        } catch(Exception e) {
+            PlayFabResult<GetPurchaseResult> exceptionResult = new PlayFabResult<GetPurchaseResult>();
+            exceptionResult.Error = PlayFabHTTP.GeneratePfError(-1, PlayFabErrorCode.Unknown, e.getMessage(), null, null);
+            return exceptionResult;
+        }
+    }
+
+    /**
+     * Retrieves data stored in a shared group object, as well as the list of members in the group. Non-members of the group
+     * may use this to retrieve group data, including membership, but they will not receive data for keys marked as private.
+     * Shared Groups are designed for sharing data between a very small number of players, please see our guide:
+     * https://docs.microsoft.com/gaming/playfab/features/social/groups/using-shared-group-data
+     * @param request GetSharedGroupDataRequest
+     * @return GetSharedGroupDataResult
+     */
+    public PlayFabResult<GetSharedGroupDataResult> GetSharedGroupData(final GetSharedGroupDataRequest request) {
+        try {
+            return PlayFabClientAPI.privateGetSharedGroupDataAsync(this, request);
+        } catch(Exception e) {
+            PlayFabResult<GetSharedGroupDataResult> exceptionResult = new PlayFabResult<GetSharedGroupDataResult>();
+            exceptionResult.Error = PlayFabHTTP.GeneratePfError(-1, PlayFabErrorCode.Unknown, e.getMessage(), null, null);
+            return exceptionResult;
+        }
+    }
+
+    /**
+     * Retrieves the set of items defined for the specified store, including all prices defined
+     * @param request GetStoreItemsRequest
+     * @return GetStoreItemsResult
+     */
+    public PlayFabResult<GetStoreItemsResult> GetStoreItems(final GetStoreItemsRequest request) {
+        try {
+            return PlayFabClientAPI.privateGetStoreItemsAsync(this, request);
+        } catch(Exception e) {
+            PlayFabResult<GetStoreItemsResult> exceptionResult = new PlayFabResult<GetStoreItemsResult>();
+            exceptionResult.Error = PlayFabHTTP.GeneratePfError(-1, PlayFabErrorCode.Unknown, e.getMessage(), null, null);
+            return exceptionResult;
+        }
+    }
+
+    /**
+     * Retrieves the current server time
+     * @param request GetTimeRequest
+     * @return GetTimeResult
+     */
+    public PlayFabResult<GetTimeResult> GetTime(final GetTimeRequest request) {
+        try {
+            return PlayFabClientAPI.privateGetTimeAsync(this, request);
+        } catch(Exception e) {
+            PlayFabResult<GetTimeResult> exceptionResult = new PlayFabResult<GetTimeResult>();
+            exceptionResult.Error = PlayFabHTTP.GeneratePfError(-1, PlayFabErrorCode.Unknown, e.getMessage(), null, null);
+            return exceptionResult;
+        }
+    }
+
+    /**
+     * Retrieves the key-value store of custom title settings
+     * @param request GetTitleDataRequest
+     * @return GetTitleDataResult
+     */
+    public PlayFabResult<GetTitleDataResult> GetTitleData(final GetTitleDataRequest request) {
+        try {
+            return PlayFabClientAPI.privateGetTitleDataAsync(this, request);
+        } catch(Exception e) {
+            PlayFabResult<GetTitleDataResult> exceptionResult = new PlayFabResult<GetTitleDataResult>();
+            exceptionResult.Error = PlayFabHTTP.GeneratePfError(-1, PlayFabErrorCode.Unknown, e.getMessage(), null, null);
+            return exceptionResult;
+        }
+    }
+
+    /**
+     * Retrieves the title news feed, as configured in the developer portal
+     * @param request GetTitleNewsRequest
+     * @return GetTitleNewsResult
+     */
+    public PlayFabResult<GetTitleNewsResult> GetTitleNews(final GetTitleNewsRequest request) {
+        try {
+            return PlayFabClientAPI.privateGetTitleNewsAsync(this, request);
+        } catch(Exception e) {
+            PlayFabResult<GetTitleNewsResult> exceptionResult = new PlayFabResult<GetTitleNewsResult>();
+            exceptionResult.Error = PlayFabHTTP.GeneratePfError(-1, PlayFabErrorCode.Unknown, e.getMessage(), null, null);
+            return exceptionResult;
+        }
+    }
+
+    /**
+     * Returns the title's base 64 encoded RSA CSP blob.
+     * @param request GetTitlePublicKeyRequest
+     * @return GetTitlePublicKeyResult
+     */
+    public PlayFabResult<GetTitlePublicKeyResult> GetTitlePublicKey(final GetTitlePublicKeyRequest request) {
+        try {
+            return PlayFabClientAPI.privateGetTitlePublicKeyAsync(this, request);
+        } catch(Exception e) {
+            PlayFabResult<GetTitlePublicKeyResult> exceptionResult = new PlayFabResult<GetTitlePublicKeyResult>();
+            exceptionResult.Error = PlayFabHTTP.GeneratePfError(-1, PlayFabErrorCode.Unknown, e.getMessage(), null, null);
+            return exceptionResult;
+        }
+    }
+
+    /**
+     * Gets the current status of an existing trade.
+     * @param request GetTradeStatusRequest
+     * @return GetTradeStatusResponse
+     */
+    public PlayFabResult<GetTradeStatusResponse> GetTradeStatus(final GetTradeStatusRequest request) {
+        try {
+            return PlayFabClientAPI.privateGetTradeStatusAsync(this, request);
+        } catch(Exception e) {
+            PlayFabResult<GetTradeStatusResponse> exceptionResult = new PlayFabResult<GetTradeStatusResponse>();
+            exceptionResult.Error = PlayFabHTTP.GeneratePfError(-1, PlayFabErrorCode.Unknown, e.getMessage(), null, null);
+            return exceptionResult;
+        }
+    }
+
+    /**
+     * Retrieves the title-specific custom data for the user which is readable and writable by the client
+     * @param request GetUserDataRequest
+     * @return GetUserDataResult
+     */
+    public PlayFabResult<GetUserDataResult> GetUserData(final GetUserDataRequest request) {
+        try {
+            return PlayFabClientAPI.privateGetUserDataAsync(this, request);
+        } catch(Exception e) {
+            PlayFabResult<GetUserDataResult> exceptionResult = new PlayFabResult<GetUserDataResult>();
+            exceptionResult.Error = PlayFabHTTP.GeneratePfError(-1, PlayFabErrorCode.Unknown, e.getMessage(), null, null);
+            return exceptionResult;
+        }
+    }
+
+    /**
+     * Retrieves the user's current inventory of virtual goods
+     * @param request GetUserInventoryRequest
+     * @return GetUserInventoryResult
+     */
+    public PlayFabResult<GetUserInventoryResult> GetUserInventory(final GetUserInventoryRequest request) {
+        try {
+            return PlayFabClientAPI.privateGetUserInventoryAsync(this, request);
+        } catch(Exception e) {
+            PlayFabResult<GetUserInventoryResult> exceptionResult = new PlayFabResult<GetUserInventoryResult>();
+            exceptionResult.Error = PlayFabHTTP.GeneratePfError(-1, PlayFabErrorCode.Unknown, e.getMessage(), null, null);
+            return exceptionResult;
+        }
+    }
+
+    /**
+     * Retrieves the publisher-specific custom data for the user which is readable and writable by the client
+     * @param request GetUserDataRequest
+     * @return GetUserDataResult
+     */
+    public PlayFabResult<GetUserDataResult> GetUserPublisherData(final GetUserDataRequest request) {
+        try {
+            return PlayFabClientAPI.privateGetUserPublisherDataAsync(this, request);
+        } catch(Exception e) {
+            PlayFabResult<GetUserDataResult> exceptionResult = new PlayFabResult<GetUserDataResult>();
+            exceptionResult.Error = PlayFabHTTP.GeneratePfError(-1, PlayFabErrorCode.Unknown, e.getMessage(), null, null);
+            return exceptionResult;
+        }
+    }
+
+    /**
+     * Retrieves the publisher-specific custom data for the user which can only be read by the client
+     * @param request GetUserDataRequest
+     * @return GetUserDataResult
+     */
+    public PlayFabResult<GetUserDataResult> GetUserPublisherReadOnlyData(final GetUserDataRequest request) {
+        try {
+            return PlayFabClientAPI.privateGetUserPublisherReadOnlyDataAsync(this, request);
+        } catch(Exception e) {
+            PlayFabResult<GetUserDataResult> exceptionResult = new PlayFabResult<GetUserDataResult>();
+            exceptionResult.Error = PlayFabHTTP.GeneratePfError(-1, PlayFabErrorCode.Unknown, e.getMessage(), null, null);
+            return exceptionResult;
+        }
+    }
+
+    /**
+     * Retrieves the title-specific custom data for the user which can only be read by the client
+     * @param request GetUserDataRequest
+     * @return GetUserDataResult
+     */
+    public PlayFabResult<GetUserDataResult> GetUserReadOnlyData(final GetUserDataRequest request) {
+        try {
+            return PlayFabClientAPI.privateGetUserReadOnlyDataAsync(this, request);
+        } catch(Exception e) {
+            PlayFabResult<GetUserDataResult> exceptionResult = new PlayFabResult<GetUserDataResult>();
+            exceptionResult.Error = PlayFabHTTP.GeneratePfError(-1, PlayFabErrorCode.Unknown, e.getMessage(), null, null);
+            return exceptionResult;
+        }
+    }
+
+    /**
+     * Grants the specified character type to the user. CharacterIds are not globally unique; characterId must be evaluated
+     * with the parent PlayFabId to guarantee uniqueness.
+     * @param request GrantCharacterToUserRequest
+     * @return GrantCharacterToUserResult
+     */
+    public PlayFabResult<GrantCharacterToUserResult> GrantCharacterToUser(final GrantCharacterToUserRequest request) {
+        try {
+            return PlayFabClientAPI.privateGrantCharacterToUserAsync(this, request);
+        } catch(Exception e) {
+            PlayFabResult<GrantCharacterToUserResult> exceptionResult = new PlayFabResult<GrantCharacterToUserResult>();
+            exceptionResult.Error = PlayFabHTTP.GeneratePfError(-1, PlayFabErrorCode.Unknown, e.getMessage(), null, null);
+            return exceptionResult;
+        }
+    }
+
+    /**
+     * Links the Android device identifier to the user's PlayFab account
+     * @param request LinkAndroidDeviceIDRequest
+     * @return LinkAndroidDeviceIDResult
+     */
+    public PlayFabResult<LinkAndroidDeviceIDResult> LinkAndroidDeviceID(final LinkAndroidDeviceIDRequest request) {
+        try {
+            return PlayFabClientAPI.privateLinkAndroidDeviceIDAsync(this, request);
+        } catch(Exception e) {
+            PlayFabResult<LinkAndroidDeviceIDResult> exceptionResult = new PlayFabResult<LinkAndroidDeviceIDResult>();
+            exceptionResult.Error = PlayFabHTTP.GeneratePfError(-1, PlayFabErrorCode.Unknown, e.getMessage(), null, null);
+            return exceptionResult;
+        }
+    }
+
+    /**
+     * Links the Apple account associated with the token to the user's PlayFab account.
+     * @param request LinkAppleRequest
+     * @return EmptyResult
+     */
+    public PlayFabResult<EmptyResult> LinkApple(final LinkAppleRequest request) {
+        try {
+            return PlayFabClientAPI.privateLinkAppleAsync(this, request);
+        } catch(Exception e) {
+            PlayFabResult<EmptyResult> exceptionResult = new PlayFabResult<EmptyResult>();
+            exceptionResult.Error = PlayFabHTTP.GeneratePfError(-1, PlayFabErrorCode.Unknown, e.getMessage(), null, null);
+            return exceptionResult;
+        }
+    }
+
+    /**
+     * Links the custom identifier, generated by the title, to the user's PlayFab account
+     * @param request LinkCustomIDRequest
+     * @return LinkCustomIDResult
+     */
+    public PlayFabResult<LinkCustomIDResult> LinkCustomID(final LinkCustomIDRequest request) {
+        try {
+            return PlayFabClientAPI.privateLinkCustomIDAsync(this, request);
+        } catch(Exception e) {
+            PlayFabResult<LinkCustomIDResult> exceptionResult = new PlayFabResult<LinkCustomIDResult>();
+            exceptionResult.Error = PlayFabHTTP.GeneratePfError(-1, PlayFabErrorCode.Unknown, e.getMessage(), null, null);
+            return exceptionResult;
+        }
+    }
+
+    /**
+     * Links the Facebook account associated with the provided Facebook access token to the user's PlayFab account
+     * @param request LinkFacebookAccountRequest
+     * @return LinkFacebookAccountResult
+     */
+    public PlayFabResult<LinkFacebookAccountResult> LinkFacebookAccount(final LinkFacebookAccountRequest request) {
+        try {
+            return PlayFabClientAPI.privateLinkFacebookAccountAsync(this, request);
+        } catch(Exception e) {
+            PlayFabResult<LinkFacebookAccountResult> exceptionResult = new PlayFabResult<LinkFacebookAccountResult>();
+            exceptionResult.Error = PlayFabHTTP.GeneratePfError(-1, PlayFabErrorCode.Unknown, e.getMessage(), null, null);
+            return exceptionResult;
+        }
+    }
+
+    /**
+     * Links the Facebook Instant Games Id to the user's PlayFab account
+     * @param request LinkFacebookInstantGamesIdRequest
+     * @return LinkFacebookInstantGamesIdResult
+     */
+    public PlayFabResult<LinkFacebookInstantGamesIdResult> LinkFacebookInstantGamesId(final LinkFacebookInstantGamesIdRequest request) {
+        try {
+            return PlayFabClientAPI.privateLinkFacebookInstantGamesIdAsync(this, request);
+        } catch(Exception e) {
+            PlayFabResult<LinkFacebookInstantGamesIdResult> exceptionResult = new PlayFabResult<LinkFacebookInstantGamesIdResult>();
+            exceptionResult.Error = PlayFabHTTP.GeneratePfError(-1, PlayFabErrorCode.Unknown, e.getMessage(), null, null);
+            return exceptionResult;
+        }
+    }
+
+    /**
+     * Links the Game Center account associated with the provided Game Center ID to the user's PlayFab account. Logging in with
+     * a Game Center ID is insecure if you do not include the optional PublicKeyUrl, Salt, Signature, and Timestamp parameters
+     * in this request. It is recommended you require these parameters on all Game Center calls by going to the Apple Add-ons
+     * page in the PlayFab Game Manager and enabling the 'Require secure authentication only for this app' option.
+     * @param request LinkGameCenterAccountRequest
+     * @return LinkGameCenterAccountResult
+     */
+    public PlayFabResult<LinkGameCenterAccountResult> LinkGameCenterAccount(final LinkGameCenterAccountRequest request) {
+        try {
+            return PlayFabClientAPI.privateLinkGameCenterAccountAsync(this, request);
+        } catch(Exception e) {
+            PlayFabResult<LinkGameCenterAccountResult> exceptionResult = new PlayFabResult<LinkGameCenterAccountResult>();
+            exceptionResult.Error = PlayFabHTTP.GeneratePfError(-1, PlayFabErrorCode.Unknown, e.getMessage(), null, null);
+            return exceptionResult;
+        }
+    }
+
+    /**
+     * Links the currently signed-in user account to their Google account, using their Google account credentials
+     * @param request LinkGoogleAccountRequest
+     * @return LinkGoogleAccountResult
+     */
+    public PlayFabResult<LinkGoogleAccountResult> LinkGoogleAccount(final LinkGoogleAccountRequest request) {
+        try {
+            return PlayFabClientAPI.privateLinkGoogleAccountAsync(this, request);
+        } catch(Exception e) {
+            PlayFabResult<LinkGoogleAccountResult> exceptionResult = new PlayFabResult<LinkGoogleAccountResult>();
+            exceptionResult.Error = PlayFabHTTP.GeneratePfError(-1, PlayFabErrorCode.Unknown, e.getMessage(), null, null);
+            return exceptionResult;
+        }
+    }
+
+    /**
+     * Links the vendor-specific iOS device identifier to the user's PlayFab account
+     * @param request LinkIOSDeviceIDRequest
+     * @return LinkIOSDeviceIDResult
+     */
+    public PlayFabResult<LinkIOSDeviceIDResult> LinkIOSDeviceID(final LinkIOSDeviceIDRequest request) {
+        try {
+            return PlayFabClientAPI.privateLinkIOSDeviceIDAsync(this, request);
+        } catch(Exception e) {
+            PlayFabResult<LinkIOSDeviceIDResult> exceptionResult = new PlayFabResult<LinkIOSDeviceIDResult>();
+            exceptionResult.Error = PlayFabHTTP.GeneratePfError(-1, PlayFabErrorCode.Unknown, e.getMessage(), null, null);
+            return exceptionResult;
+        }
+    }
+
+    /**
+     * Links the Kongregate identifier to the user's PlayFab account
+     * @param request LinkKongregateAccountRequest
+     * @return LinkKongregateAccountResult
+     */
+    public PlayFabResult<LinkKongregateAccountResult> LinkKongregate(final LinkKongregateAccountRequest request) {
+        try {
+            return PlayFabClientAPI.privateLinkKongregateAsync(this, request);
+        } catch(Exception e) {
+            PlayFabResult<LinkKongregateAccountResult> exceptionResult = new PlayFabResult<LinkKongregateAccountResult>();
+            exceptionResult.Error = PlayFabHTTP.GeneratePfError(-1, PlayFabErrorCode.Unknown, e.getMessage(), null, null);
+            return exceptionResult;
+        }
+    }
+
+    /**
+     * Links the Nintendo account associated with the token to the user's PlayFab account.
+     * @param request LinkNintendoServiceAccountRequest
+     * @return EmptyResult
+     */
+    public PlayFabResult<EmptyResult> LinkNintendoServiceAccount(final LinkNintendoServiceAccountRequest request) {
+        try {
+            return PlayFabClientAPI.privateLinkNintendoServiceAccountAsync(this, request);
+        } catch(Exception e) {
+            PlayFabResult<EmptyResult> exceptionResult = new PlayFabResult<EmptyResult>();
+            exceptionResult.Error = PlayFabHTTP.GeneratePfError(-1, PlayFabErrorCode.Unknown, e.getMessage(), null, null);
+            return exceptionResult;
+        }
+    }
+
+    /**
+     * Links the NintendoSwitchDeviceId to the user's PlayFab account
+     * @param request LinkNintendoSwitchDeviceIdRequest
+     * @return LinkNintendoSwitchDeviceIdResult
+     */
+    public PlayFabResult<LinkNintendoSwitchDeviceIdResult> LinkNintendoSwitchDeviceId(final LinkNintendoSwitchDeviceIdRequest request) {
+        try {
+            return PlayFabClientAPI.privateLinkNintendoSwitchDeviceIdAsync(this, request);
+        } catch(Exception e) {
+            PlayFabResult<LinkNintendoSwitchDeviceIdResult> exceptionResult = new PlayFabResult<LinkNintendoSwitchDeviceIdResult>();
+            exceptionResult.Error = PlayFabHTTP.GeneratePfError(-1, PlayFabErrorCode.Unknown, e.getMessage(), null, null);
+            return exceptionResult;
+        }
+    }
+
+    /**
+     * Links an OpenID Connect account to a user's PlayFab account, based on an existing relationship between a title and an
+     * Open ID Connect provider and the OpenId Connect JWT from that provider.
+     * @param request LinkOpenIdConnectRequest
+     * @return EmptyResult
+     */
+    public PlayFabResult<EmptyResult> LinkOpenIdConnect(final LinkOpenIdConnectRequest request) {
+        try {
+            return PlayFabClientAPI.privateLinkOpenIdConnectAsync(this, request);
+        } catch(Exception e) {
+            PlayFabResult<EmptyResult> exceptionResult = new PlayFabResult<EmptyResult>();
+            exceptionResult.Error = PlayFabHTTP.GeneratePfError(-1, PlayFabErrorCode.Unknown, e.getMessage(), null, null);
+            return exceptionResult;
+        }
+    }
+
+    /**
+     * Links the PlayStation Network account associated with the provided access code to the user's PlayFab account
+     * @param request LinkPSNAccountRequest
+     * @return LinkPSNAccountResult
+     */
+    public PlayFabResult<LinkPSNAccountResult> LinkPSNAccount(final LinkPSNAccountRequest request) {
+        try {
+            return PlayFabClientAPI.privateLinkPSNAccountAsync(this, request);
+        } catch(Exception e) {
+            PlayFabResult<LinkPSNAccountResult> exceptionResult = new PlayFabResult<LinkPSNAccountResult>();
+            exceptionResult.Error = PlayFabHTTP.GeneratePfError(-1, PlayFabErrorCode.Unknown, e.getMessage(), null, null);
+            return exceptionResult;
+        }
+    }
+
+    /**
+     * Links the Steam account associated with the provided Steam authentication ticket to the user's PlayFab account
+     * @param request LinkSteamAccountRequest
+     * @return LinkSteamAccountResult
+     */
+    public PlayFabResult<LinkSteamAccountResult> LinkSteamAccount(final LinkSteamAccountRequest request) {
+        try {
+            return PlayFabClientAPI.privateLinkSteamAccountAsync(this, request);
+        } catch(Exception e) {
+            PlayFabResult<LinkSteamAccountResult> exceptionResult = new PlayFabResult<LinkSteamAccountResult>();
+            exceptionResult.Error = PlayFabHTTP.GeneratePfError(-1, PlayFabErrorCode.Unknown, e.getMessage(), null, null);
+            return exceptionResult;
+        }
+    }
+
+    /**
+     * Links the Twitch account associated with the token to the user's PlayFab account.
+     * @param request LinkTwitchAccountRequest
+     * @return LinkTwitchAccountResult
+     */
+    public PlayFabResult<LinkTwitchAccountResult> LinkTwitch(final LinkTwitchAccountRequest request) {
+        try {
+            return PlayFabClientAPI.privateLinkTwitchAsync(this, request);
+        } catch(Exception e) {
+            PlayFabResult<LinkTwitchAccountResult> exceptionResult = new PlayFabResult<LinkTwitchAccountResult>();
+            exceptionResult.Error = PlayFabHTTP.GeneratePfError(-1, PlayFabErrorCode.Unknown, e.getMessage(), null, null);
+            return exceptionResult;
+        }
+    }
+
+    /**
+     * Links the Xbox Live account associated with the provided access code to the user's PlayFab account
+     * @param request LinkXboxAccountRequest
+     * @return LinkXboxAccountResult
+     */
+    public PlayFabResult<LinkXboxAccountResult> LinkXboxAccount(final LinkXboxAccountRequest request) {
+        try {
+            return PlayFabClientAPI.privateLinkXboxAccountAsync(this, request);
+        } catch(Exception e) {
+            PlayFabResult<LinkXboxAccountResult> exceptionResult = new PlayFabResult<LinkXboxAccountResult>();
+            exceptionResult.Error = PlayFabHTTP.GeneratePfError(-1, PlayFabErrorCode.Unknown, e.getMessage(), null, null);
+            return exceptionResult;
+        }
+    }
+
+    /**
+     * Signs the user in using the Android device identifier, returning a session identifier that can subsequently be used for
+     * API calls which require an authenticated user
+     * @param request LoginWithAndroidDeviceIDRequest
+     * @return LoginResult
+     */
+    public PlayFabResult<LoginResult> LoginWithAndroidDeviceID(final LoginWithAndroidDeviceIDRequest request) {
+        try {
+            return PlayFabClientAPI.privateLoginWithAndroidDeviceIDAsync(this, request);
+        } catch(Exception e) {
+            PlayFabResult<LoginResult> exceptionResult = new PlayFabResult<LoginResult>();
+            exceptionResult.Error = PlayFabHTTP.GeneratePfError(-1, PlayFabErrorCode.Unknown, e.getMessage(), null, null);
+            return exceptionResult;
+        }
+    }
+
+    /**
+     * Signs in the user with a Sign in with Apple identity token.
+     * @param request LoginWithAppleRequest
+     * @return LoginResult
+     */
+    public PlayFabResult<LoginResult> LoginWithApple(final LoginWithAppleRequest request) {
+        try {
+            return PlayFabClientAPI.privateLoginWithAppleAsync(this, request);
+        } catch(Exception e) {
+            PlayFabResult<LoginResult> exceptionResult = new PlayFabResult<LoginResult>();
+            exceptionResult.Error = PlayFabHTTP.GeneratePfError(-1, PlayFabErrorCode.Unknown, e.getMessage(), null, null);
+            return exceptionResult;
+        }
+    }
+
+    /**
+     * Signs the user in using a custom unique identifier generated by the title, returning a session identifier that can
+     * subsequently be used for API calls which require an authenticated user
+     * @param request LoginWithCustomIDRequest
+     * @return LoginResult
+     */
+    public PlayFabResult<LoginResult> LoginWithCustomID(final LoginWithCustomIDRequest request) {
+        try {
+            return PlayFabClientAPI.privateLoginWithCustomIDAsync(this, request);
+        } catch(Exception e) {
+            PlayFabResult<LoginResult> exceptionResult = new PlayFabResult<LoginResult>();
+            exceptionResult.Error = PlayFabHTTP.GeneratePfError(-1, PlayFabErrorCode.Unknown, e.getMessage(), null, null);
+            return exceptionResult;
+        }
+    }
+
+    /**
+     * Signs the user into the PlayFab account, returning a session identifier that can subsequently be used for API calls
+     * which require an authenticated user. Unlike most other login API calls, LoginWithEmailAddress does not permit the
+     * creation of new accounts via the CreateAccountFlag. Email addresses may be used to create accounts via
+     * RegisterPlayFabUser.
+     * @param request LoginWithEmailAddressRequest
+     * @return LoginResult
+     */
+    public PlayFabResult<LoginResult> LoginWithEmailAddress(final LoginWithEmailAddressRequest request) {
+        try {
+            return PlayFabClientAPI.privateLoginWithEmailAddressAsync(this, request);
+        } catch(Exception e) {
+            PlayFabResult<LoginResult> exceptionResult = new PlayFabResult<LoginResult>();
+            exceptionResult.Error = PlayFabHTTP.GeneratePfError(-1, PlayFabErrorCode.Unknown, e.getMessage(), null, null);
+            return exceptionResult;
+        }
+    }
+
+    /**
+     * Signs the user in using a Facebook access token, returning a session identifier that can subsequently be used for API
+     * calls which require an authenticated user
+     * @param request LoginWithFacebookRequest
+     * @return LoginResult
+     */
+    public PlayFabResult<LoginResult> LoginWithFacebook(final LoginWithFacebookRequest request) {
+        try {
+            return PlayFabClientAPI.privateLoginWithFacebookAsync(this, request);
+        } catch(Exception e) {
+            PlayFabResult<LoginResult> exceptionResult = new PlayFabResult<LoginResult>();
+            exceptionResult.Error = PlayFabHTTP.GeneratePfError(-1, PlayFabErrorCode.Unknown, e.getMessage(), null, null);
+            return exceptionResult;
+        }
+    }
+
+    /**
+     * Signs the user in using a Facebook Instant Games ID, returning a session identifier that can subsequently be used for
+     * API calls which require an authenticated user. Requires Facebook Instant Games to be configured.
+     * @param request LoginWithFacebookInstantGamesIdRequest
+     * @return LoginResult
+     */
+    public PlayFabResult<LoginResult> LoginWithFacebookInstantGamesId(final LoginWithFacebookInstantGamesIdRequest request) {
+        try {
+            return PlayFabClientAPI.privateLoginWithFacebookInstantGamesIdAsync(this, request);
+        } catch(Exception e) {
+            PlayFabResult<LoginResult> exceptionResult = new PlayFabResult<LoginResult>();
+            exceptionResult.Error = PlayFabHTTP.GeneratePfError(-1, PlayFabErrorCode.Unknown, e.getMessage(), null, null);
+            return exceptionResult;
+        }
+    }
+
+    /**
+     * Signs the user in using an iOS Game Center player identifier, returning a session identifier that can subsequently be
+     * used for API calls which require an authenticated user. Logging in with a Game Center ID is insecure if you do not
+     * include the optional PublicKeyUrl, Salt, Signature, and Timestamp parameters in this request. It is recommended you
+     * require these parameters on all Game Center calls by going to the Apple Add-ons page in the PlayFab Game Manager and
+     * enabling the 'Require secure authentication only for this app' option.
+     * @param request LoginWithGameCenterRequest
+     * @return LoginResult
+     */
+    public PlayFabResult<LoginResult> LoginWithGameCenter(final LoginWithGameCenterRequest request) {
+        try {
+            return PlayFabClientAPI.privateLoginWithGameCenterAsync(this, request);
+        } catch(Exception e) {
+            PlayFabResult<LoginResult> exceptionResult = new PlayFabResult<LoginResult>();
+            exceptionResult.Error = PlayFabHTTP.GeneratePfError(-1, PlayFabErrorCode.Unknown, e.getMessage(), null, null);
+            return exceptionResult;
+        }
+    }
+
+    /**
+     * Signs the user in using their Google account credentials
+     * @param request LoginWithGoogleAccountRequest
+     * @return LoginResult
+     */
+    public PlayFabResult<LoginResult> LoginWithGoogleAccount(final LoginWithGoogleAccountRequest request) {
+        try {
+            return PlayFabClientAPI.privateLoginWithGoogleAccountAsync(this, request);
+        } catch(Exception e) {
+            PlayFabResult<LoginResult> exceptionResult = new PlayFabResult<LoginResult>();
+            exceptionResult.Error = PlayFabHTTP.GeneratePfError(-1, PlayFabErrorCode.Unknown, e.getMessage(), null, null);
+            return exceptionResult;
+        }
+    }
+
+    /**
+     * Signs the user in using the vendor-specific iOS device identifier, returning a session identifier that can subsequently
+     * be used for API calls which require an authenticated user
+     * @param request LoginWithIOSDeviceIDRequest
+     * @return LoginResult
+     */
+    public PlayFabResult<LoginResult> LoginWithIOSDeviceID(final LoginWithIOSDeviceIDRequest request) {
+        try {
+            return PlayFabClientAPI.privateLoginWithIOSDeviceIDAsync(this, request);
+        } catch(Exception e) {
+            PlayFabResult<LoginResult> exceptionResult = new PlayFabResult<LoginResult>();
+            exceptionResult.Error = PlayFabHTTP.GeneratePfError(-1, PlayFabErrorCode.Unknown, e.getMessage(), null, null);
+            return exceptionResult;
+        }
+    }
+
+    /**
+     * Signs the user in using a Kongregate player account.
+     * @param request LoginWithKongregateRequest
+     * @return LoginResult
+     */
+    public PlayFabResult<LoginResult> LoginWithKongregate(final LoginWithKongregateRequest request) {
+        try {
+            return PlayFabClientAPI.privateLoginWithKongregateAsync(this, request);
+        } catch(Exception e) {
+            PlayFabResult<LoginResult> exceptionResult = new PlayFabResult<LoginResult>();
+            exceptionResult.Error = PlayFabHTTP.GeneratePfError(-1, PlayFabErrorCode.Unknown, e.getMessage(), null, null);
+            return exceptionResult;
+        }
+    }
+
+    /**
+     * Signs in the user with a Nintendo service account token.
+     * @param request LoginWithNintendoServiceAccountRequest
+     * @return LoginResult
+     */
+    public PlayFabResult<LoginResult> LoginWithNintendoServiceAccount(final LoginWithNintendoServiceAccountRequest request) {
+        try {
+            return PlayFabClientAPI.privateLoginWithNintendoServiceAccountAsync(this, request);
+        } catch(Exception e) {
+            PlayFabResult<LoginResult> exceptionResult = new PlayFabResult<LoginResult>();
+            exceptionResult.Error = PlayFabHTTP.GeneratePfError(-1, PlayFabErrorCode.Unknown, e.getMessage(), null, null);
+            return exceptionResult;
+        }
+    }
+
+    /**
+     * Signs the user in using a Nintendo Switch Device ID, returning a session identifier that can subsequently be used for
+     * API calls which require an authenticated user
+     * @param request LoginWithNintendoSwitchDeviceIdRequest
+     * @return LoginResult
+     */
+    public PlayFabResult<LoginResult> LoginWithNintendoSwitchDeviceId(final LoginWithNintendoSwitchDeviceIdRequest request) {
+        try {
+            return PlayFabClientAPI.privateLoginWithNintendoSwitchDeviceIdAsync(this, request);
+        } catch(Exception e) {
+            PlayFabResult<LoginResult> exceptionResult = new PlayFabResult<LoginResult>();
+            exceptionResult.Error = PlayFabHTTP.GeneratePfError(-1, PlayFabErrorCode.Unknown, e.getMessage(), null, null);
+            return exceptionResult;
+        }
+    }
+
+    /**
+     * Logs in a user with an Open ID Connect JWT created by an existing relationship between a title and an Open ID Connect
+     * provider.
+     * @param request LoginWithOpenIdConnectRequest
+     * @return LoginResult
+     */
+    public PlayFabResult<LoginResult> LoginWithOpenIdConnect(final LoginWithOpenIdConnectRequest request) {
+        try {
+            return PlayFabClientAPI.privateLoginWithOpenIdConnectAsync(this, request);
+        } catch(Exception e) {
+            PlayFabResult<LoginResult> exceptionResult = new PlayFabResult<LoginResult>();
+            exceptionResult.Error = PlayFabHTTP.GeneratePfError(-1, PlayFabErrorCode.Unknown, e.getMessage(), null, null);
+            return exceptionResult;
+        }
+    }
+
+    /**
+     * Signs the user into the PlayFab account, returning a session identifier that can subsequently be used for API calls
+     * which require an authenticated user. Unlike most other login API calls, LoginWithPlayFab does not permit the creation of
+     * new accounts via the CreateAccountFlag. Username/Password credentials may be used to create accounts via
+     * RegisterPlayFabUser, or added to existing accounts using AddUsernamePassword.
+     * @param request LoginWithPlayFabRequest
+     * @return LoginResult
+     */
+    public PlayFabResult<LoginResult> LoginWithPlayFab(final LoginWithPlayFabRequest request) {
+        try {
+            return PlayFabClientAPI.privateLoginWithPlayFabAsync(this, request);
+        } catch(Exception e) {
+            PlayFabResult<LoginResult> exceptionResult = new PlayFabResult<LoginResult>();
+            exceptionResult.Error = PlayFabHTTP.GeneratePfError(-1, PlayFabErrorCode.Unknown, e.getMessage(), null, null);
+            return exceptionResult;
+        }
+    }
+
+    /**
+     * Signs the user in using a PlayStation Network authentication code, returning a session identifier that can subsequently
+     * be used for API calls which require an authenticated user
+     * @param request LoginWithPSNRequest
+     * @return LoginResult
+     */
+    public PlayFabResult<LoginResult> LoginWithPSN(final LoginWithPSNRequest request) {
+        try {
+            return PlayFabClientAPI.privateLoginWithPSNAsync(this, request);
+        } catch(Exception e) {
+            PlayFabResult<LoginResult> exceptionResult = new PlayFabResult<LoginResult>();
+            exceptionResult.Error = PlayFabHTTP.GeneratePfError(-1, PlayFabErrorCode.Unknown, e.getMessage(), null, null);
+            return exceptionResult;
+        }
+    }
+
+    /**
+     * Signs the user in using a Steam authentication ticket, returning a session identifier that can subsequently be used for
+     * API calls which require an authenticated user
+     * @param request LoginWithSteamRequest
+     * @return LoginResult
+     */
+    public PlayFabResult<LoginResult> LoginWithSteam(final LoginWithSteamRequest request) {
+        try {
+            return PlayFabClientAPI.privateLoginWithSteamAsync(this, request);
+        } catch(Exception e) {
+            PlayFabResult<LoginResult> exceptionResult = new PlayFabResult<LoginResult>();
+            exceptionResult.Error = PlayFabHTTP.GeneratePfError(-1, PlayFabErrorCode.Unknown, e.getMessage(), null, null);
+            return exceptionResult;
+        }
+    }
+
+    /**
+     * Signs the user in using a Twitch access token.
+     * @param request LoginWithTwitchRequest
+     * @return LoginResult
+     */
+    public PlayFabResult<LoginResult> LoginWithTwitch(final LoginWithTwitchRequest request) {
+        try {
+            return PlayFabClientAPI.privateLoginWithTwitchAsync(this, request);
+        } catch(Exception e) {
+            PlayFabResult<LoginResult> exceptionResult = new PlayFabResult<LoginResult>();
+            exceptionResult.Error = PlayFabHTTP.GeneratePfError(-1, PlayFabErrorCode.Unknown, e.getMessage(), null, null);
+            return exceptionResult;
+        }
+    }
+
+    /**
+     * Signs the user in using a Xbox Live Token, returning a session identifier that can subsequently be used for API calls
+     * which require an authenticated user
+     * @param request LoginWithXboxRequest
+     * @return LoginResult
+     */
+    public PlayFabResult<LoginResult> LoginWithXbox(final LoginWithXboxRequest request) {
+        try {
+            return PlayFabClientAPI.privateLoginWithXboxAsync(this, request);
+        } catch(Exception e) {
+            PlayFabResult<LoginResult> exceptionResult = new PlayFabResult<LoginResult>();
+            exceptionResult.Error = PlayFabHTTP.GeneratePfError(-1, PlayFabErrorCode.Unknown, e.getMessage(), null, null);
+            return exceptionResult;
+        }
+    }
+
+    /**
+     * Attempts to locate a game session matching the given parameters. If the goal is to match the player into a specific
+     * active session, only the LobbyId is required. Otherwise, the BuildVersion, GameMode, and Region are all required
+     * parameters. Note that parameters specified in the search are required (they are not weighting factors). If a slot is
+     * found in a server instance matching the parameters, the slot will be assigned to that player, removing it from the
+     * availabe set. In that case, the information on the game session will be returned, otherwise the Status returned will be
+     * GameNotFound.
+     * @param request MatchmakeRequest
+     * @return MatchmakeResult
+     */
+    public PlayFabResult<MatchmakeResult> Matchmake(final MatchmakeRequest request) {
+        try {
+            return PlayFabClientAPI.privateMatchmakeAsync(this, request);
+        } catch(Exception e) {
+            PlayFabResult<MatchmakeResult> exceptionResult = new PlayFabResult<MatchmakeResult>();
+            exceptionResult.Error = PlayFabHTTP.GeneratePfError(-1, PlayFabErrorCode.Unknown, e.getMessage(), null, null);
+            return exceptionResult;
+        }
+    }
+
+    /**
+     * Opens a new outstanding trade. Note that a given item instance may only be in one open trade at a time.
+     * @param request OpenTradeRequest
+     * @return OpenTradeResponse
+     */
+    public PlayFabResult<OpenTradeResponse> OpenTrade(final OpenTradeRequest request) {
+        try {
+            return PlayFabClientAPI.privateOpenTradeAsync(this, request);
+        } catch(Exception e) {
+            PlayFabResult<OpenTradeResponse> exceptionResult = new PlayFabResult<OpenTradeResponse>();
+            exceptionResult.Error = PlayFabHTTP.GeneratePfError(-1, PlayFabErrorCode.Unknown, e.getMessage(), null, null);
+            return exceptionResult;
+        }
+    }
+
+    /**
+     * Selects a payment option for purchase order created via StartPurchase
+     * @param request PayForPurchaseRequest
+     * @return PayForPurchaseResult
+     */
+    public PlayFabResult<PayForPurchaseResult> PayForPurchase(final PayForPurchaseRequest request) {
+        try {
+            return PlayFabClientAPI.privatePayForPurchaseAsync(this, request);
+        } catch(Exception e) {
+            PlayFabResult<PayForPurchaseResult> exceptionResult = new PlayFabResult<PayForPurchaseResult>();
+            exceptionResult.Error = PlayFabHTTP.GeneratePfError(-1, PlayFabErrorCode.Unknown, e.getMessage(), null, null);
+            return exceptionResult;
+        }
+    }
+
+    /**
+     * Buys a single item with virtual currency. You must specify both the virtual currency to use to purchase, as well as what
+     * the client believes the price to be. This lets the server fail the purchase if the price has changed.
+     * @param request PurchaseItemRequest
+     * @return PurchaseItemResult
+     */
+    public PlayFabResult<PurchaseItemResult> PurchaseItem(final PurchaseItemRequest request) {
+        try {
+            return PlayFabClientAPI.privatePurchaseItemAsync(this, request);
+        } catch(Exception e) {
+            PlayFabResult<PurchaseItemResult> exceptionResult = new PlayFabResult<PurchaseItemResult>();
+            exceptionResult.Error = PlayFabHTTP.GeneratePfError(-1, PlayFabErrorCode.Unknown, e.getMessage(), null, null);
+            return exceptionResult;
+        }
+    }
+
+    /**
+     * Adds the virtual goods associated with the coupon to the user's inventory. Coupons can be generated via the
+     * Economy-&gt;Catalogs tab in the PlayFab Game Manager.
+     * @param request RedeemCouponRequest
+     * @return RedeemCouponResult
+     */
+    public PlayFabResult<RedeemCouponResult> RedeemCoupon(final RedeemCouponRequest request) {
+        try {
+            return PlayFabClientAPI.privateRedeemCouponAsync(this, request);
+        } catch(Exception e) {
+            PlayFabResult<RedeemCouponResult> exceptionResult = new PlayFabResult<RedeemCouponResult>();
+            exceptionResult.Error = PlayFabHTTP.GeneratePfError(-1, PlayFabErrorCode.Unknown, e.getMessage(), null, null);
+            return exceptionResult;
+        }
+    }
+
+    /**
+     * Uses the supplied OAuth code to refresh the internally cached player PSN auth token
+     * @param request RefreshPSNAuthTokenRequest
+     * @return EmptyResponse
+     */
+    public PlayFabResult<EmptyResponse> RefreshPSNAuthToken(final RefreshPSNAuthTokenRequest request) {
+        try {
+            return PlayFabClientAPI.privateRefreshPSNAuthTokenAsync(this, request);
+        } catch(Exception e) {
+            PlayFabResult<EmptyResponse> exceptionResult = new PlayFabResult<EmptyResponse>();
+            exceptionResult.Error = PlayFabHTTP.GeneratePfError(-1, PlayFabErrorCode.Unknown, e.getMessage(), null, null);
+            return exceptionResult;
+        }
+    }
+
+    /**
+     * Registers the iOS device to receive push notifications
+     * @param request RegisterForIOSPushNotificationRequest
+     * @return RegisterForIOSPushNotificationResult
+     */
+    public PlayFabResult<RegisterForIOSPushNotificationResult> RegisterForIOSPushNotification(final RegisterForIOSPushNotificationRequest request) {
+        try {
+            return PlayFabClientAPI.privateRegisterForIOSPushNotificationAsync(this, request);
+        } catch(Exception e) {
+            PlayFabResult<RegisterForIOSPushNotificationResult> exceptionResult = new PlayFabResult<RegisterForIOSPushNotificationResult>();
+            exceptionResult.Error = PlayFabHTTP.GeneratePfError(-1, PlayFabErrorCode.Unknown, e.getMessage(), null, null);
+            return exceptionResult;
+        }
+    }
+
+    /**
+     * Registers a new Playfab user account, returning a session identifier that can subsequently be used for API calls which
+     * require an authenticated user. You must supply either a username or an email address.
+     * @param request RegisterPlayFabUserRequest
+     * @return RegisterPlayFabUserResult
+     */
+    public PlayFabResult<RegisterPlayFabUserResult> RegisterPlayFabUser(final RegisterPlayFabUserRequest request) {
+        try {
+            return PlayFabClientAPI.privateRegisterPlayFabUserAsync(this, request);
+        } catch(Exception e) {
+            PlayFabResult<RegisterPlayFabUserResult> exceptionResult = new PlayFabResult<RegisterPlayFabUserResult>();
+            exceptionResult.Error = PlayFabHTTP.GeneratePfError(-1, PlayFabErrorCode.Unknown, e.getMessage(), null, null);
+            return exceptionResult;
+        }
+    }
+
+    /**
+     * Removes a contact email from the player's profile.
+     * @param request RemoveContactEmailRequest
+     * @return RemoveContactEmailResult
+     */
+    public PlayFabResult<RemoveContactEmailResult> RemoveContactEmail(final RemoveContactEmailRequest request) {
+        try {
+            return PlayFabClientAPI.privateRemoveContactEmailAsync(this, request);
+        } catch(Exception e) {
+            PlayFabResult<RemoveContactEmailResult> exceptionResult = new PlayFabResult<RemoveContactEmailResult>();
+            exceptionResult.Error = PlayFabHTTP.GeneratePfError(-1, PlayFabErrorCode.Unknown, e.getMessage(), null, null);
+            return exceptionResult;
+        }
+    }
+
+    /**
+     * Removes a specified user from the friend list of the local user
+     * @param request RemoveFriendRequest
+     * @return RemoveFriendResult
+     */
+    public PlayFabResult<RemoveFriendResult> RemoveFriend(final RemoveFriendRequest request) {
+        try {
+            return PlayFabClientAPI.privateRemoveFriendAsync(this, request);
+        } catch(Exception e) {
+            PlayFabResult<RemoveFriendResult> exceptionResult = new PlayFabResult<RemoveFriendResult>();
+            exceptionResult.Error = PlayFabHTTP.GeneratePfError(-1, PlayFabErrorCode.Unknown, e.getMessage(), null, null);
+            return exceptionResult;
+        }
+    }
+
+    /**
+     * Removes the specified generic service identifier from the player's PlayFab account.
+     * @param request RemoveGenericIDRequest
+     * @return RemoveGenericIDResult
+     */
+    public PlayFabResult<RemoveGenericIDResult> RemoveGenericID(final RemoveGenericIDRequest request) {
+        try {
+            return PlayFabClientAPI.privateRemoveGenericIDAsync(this, request);
+        } catch(Exception e) {
+            PlayFabResult<RemoveGenericIDResult> exceptionResult = new PlayFabResult<RemoveGenericIDResult>();
+            exceptionResult.Error = PlayFabHTTP.GeneratePfError(-1, PlayFabErrorCode.Unknown, e.getMessage(), null, null);
+            return exceptionResult;
+        }
+    }
+
+    /**
+     * Removes users from the set of those able to update the shared data and the set of users in the group. Only users in the
+     * group can remove members. If as a result of the call, zero users remain with access, the group and its associated data
+     * will be deleted. Shared Groups are designed for sharing data between a very small number of players, please see our
+     * guide: https://docs.microsoft.com/gaming/playfab/features/social/groups/using-shared-group-data
+     * @param request RemoveSharedGroupMembersRequest
+     * @return RemoveSharedGroupMembersResult
+     */
+    public PlayFabResult<RemoveSharedGroupMembersResult> RemoveSharedGroupMembers(final RemoveSharedGroupMembersRequest request) {
+        try {
+            return PlayFabClientAPI.privateRemoveSharedGroupMembersAsync(this, request);
+        } catch(Exception e) {
+            PlayFabResult<RemoveSharedGroupMembersResult> exceptionResult = new PlayFabResult<RemoveSharedGroupMembersResult>();
+            exceptionResult.Error = PlayFabHTTP.GeneratePfError(-1, PlayFabErrorCode.Unknown, e.getMessage(), null, null);
+            return exceptionResult;
+        }
+    }
+
+    /**
+     * Report player's ad activity
+     * @param request ReportAdActivityRequest
+     * @return ReportAdActivityResult
+     */
+    public PlayFabResult<ReportAdActivityResult> ReportAdActivity(final ReportAdActivityRequest request) {
+        try {
+            return PlayFabClientAPI.privateReportAdActivityAsync(this, request);
+        } catch(Exception e) {
+            PlayFabResult<ReportAdActivityResult> exceptionResult = new PlayFabResult<ReportAdActivityResult>();
+            exceptionResult.Error = PlayFabHTTP.GeneratePfError(-1, PlayFabErrorCode.Unknown, e.getMessage(), null, null);
+            return exceptionResult;
+        }
+    }
+
+    /**
+     * Write a PlayStream event to describe the provided player device information. This API method is not designed to be
+     * called directly by developers. Each PlayFab client SDK will eventually report this information automatically.
+     * @param request DeviceInfoRequest
+     * @return EmptyResponse
+     */
+    public PlayFabResult<EmptyResponse> ReportDeviceInfo(final DeviceInfoRequest request) {
+        try {
+            return PlayFabClientAPI.privateReportDeviceInfoAsync(this, request);
+        } catch(Exception e) {
+            PlayFabResult<EmptyResponse> exceptionResult = new PlayFabResult<EmptyResponse>();
+            exceptionResult.Error = PlayFabHTTP.GeneratePfError(-1, PlayFabErrorCode.Unknown, e.getMessage(), null, null);
+            return exceptionResult;
+        }
+    }
+
+    /**
+     * Submit a report for another player (due to bad bahavior, etc.), so that customer service representatives for the title
+     * can take action concerning potentially toxic players.
+     * @param request ReportPlayerClientRequest
+     * @return ReportPlayerClientResult
+     */
+    public PlayFabResult<ReportPlayerClientResult> ReportPlayer(final ReportPlayerClientRequest request) {
+        try {
+            return PlayFabClientAPI.privateReportPlayerAsync(this, request);
+        } catch(Exception e) {
+            PlayFabResult<ReportPlayerClientResult> exceptionResult = new PlayFabResult<ReportPlayerClientResult>();
+            exceptionResult.Error = PlayFabHTTP.GeneratePfError(-1, PlayFabErrorCode.Unknown, e.getMessage(), null, null);
+            return exceptionResult;
+        }
+    }
+
+    /**
+     * Restores all in-app purchases based on the given restore receipt
+     * @param request RestoreIOSPurchasesRequest
+     * @return RestoreIOSPurchasesResult
+     */
+    public PlayFabResult<RestoreIOSPurchasesResult> RestoreIOSPurchases(final RestoreIOSPurchasesRequest request) {
+        try {
+            return PlayFabClientAPI.privateRestoreIOSPurchasesAsync(this, request);
+        } catch(Exception e) {
+            PlayFabResult<RestoreIOSPurchasesResult> exceptionResult = new PlayFabResult<RestoreIOSPurchasesResult>();
+            exceptionResult.Error = PlayFabHTTP.GeneratePfError(-1, PlayFabErrorCode.Unknown, e.getMessage(), null, null);
+            return exceptionResult;
+        }
+    }
+
+    /**
+     * Reward player's ad activity
+     * @param request RewardAdActivityRequest
+     * @return RewardAdActivityResult
+     */
+    public PlayFabResult<RewardAdActivityResult> RewardAdActivity(final RewardAdActivityRequest request) {
+        try {
+            return PlayFabClientAPI.privateRewardAdActivityAsync(this, request);
+        } catch(Exception e) {
+            PlayFabResult<RewardAdActivityResult> exceptionResult = new PlayFabResult<RewardAdActivityResult>();
+            exceptionResult.Error = PlayFabHTTP.GeneratePfError(-1, PlayFabErrorCode.Unknown, e.getMessage(), null, null);
+            return exceptionResult;
+        }
+    }
+
+    /**
+     * Forces an email to be sent to the registered email address for the user's account, with a link allowing the user to
+     * change the password.If an account recovery email template ID is provided, an email using the custom email template will
+     * be used.
+     * @param request SendAccountRecoveryEmailRequest
+     * @return SendAccountRecoveryEmailResult
+     */
+    public PlayFabResult<SendAccountRecoveryEmailResult> SendAccountRecoveryEmail(final SendAccountRecoveryEmailRequest request) {
+        try {
+            return PlayFabClientAPI.privateSendAccountRecoveryEmailAsync(this, request);
+        } catch(Exception e) {
+            PlayFabResult<SendAccountRecoveryEmailResult> exceptionResult = new PlayFabResult<SendAccountRecoveryEmailResult>();
+            exceptionResult.Error = PlayFabHTTP.GeneratePfError(-1, PlayFabErrorCode.Unknown, e.getMessage(), null, null);
+            return exceptionResult;
+        }
+    }
+
+    /**
+     * Updates the tag list for a specified user in the friend list of the local user
+     * @param request SetFriendTagsRequest
+     * @return SetFriendTagsResult
+     */
+    public PlayFabResult<SetFriendTagsResult> SetFriendTags(final SetFriendTagsRequest request) {
+        try {
+            return PlayFabClientAPI.privateSetFriendTagsAsync(this, request);
+        } catch(Exception e) {
+            PlayFabResult<SetFriendTagsResult> exceptionResult = new PlayFabResult<SetFriendTagsResult>();
+            exceptionResult.Error = PlayFabHTTP.GeneratePfError(-1, PlayFabErrorCode.Unknown, e.getMessage(), null, null);
+            return exceptionResult;
+        }
+    }
+
+    /**
+     * Sets the player's secret if it is not already set. Player secrets are used to sign API requests. To reset a player's
+     * secret use the Admin or Server API method SetPlayerSecret.
+     * @param request SetPlayerSecretRequest
+     * @return SetPlayerSecretResult
+     */
+    public PlayFabResult<SetPlayerSecretResult> SetPlayerSecret(final SetPlayerSecretRequest request) {
+        try {
+            return PlayFabClientAPI.privateSetPlayerSecretAsync(this, request);
+        } catch(Exception e) {
+            PlayFabResult<SetPlayerSecretResult> exceptionResult = new PlayFabResult<SetPlayerSecretResult>();
+            exceptionResult.Error = PlayFabHTTP.GeneratePfError(-1, PlayFabErrorCode.Unknown, e.getMessage(), null, null);
+            return exceptionResult;
+        }
+    }
+
+    /**
+     * Start a new game server with a given configuration, add the current player and return the connection information.
+     * @param request StartGameRequest
+     * @return StartGameResult
+     */
+    public PlayFabResult<StartGameResult> StartGame(final StartGameRequest request) {
+        try {
+            return PlayFabClientAPI.privateStartGameAsync(this, request);
+        } catch(Exception e) {
+            PlayFabResult<StartGameResult> exceptionResult = new PlayFabResult<StartGameResult>();
+            exceptionResult.Error = PlayFabHTTP.GeneratePfError(-1, PlayFabErrorCode.Unknown, e.getMessage(), null, null);
+            return exceptionResult;
+        }
+    }
+
+    /**
+     * Creates an order for a list of items from the title catalog
+     * @param request StartPurchaseRequest
+     * @return StartPurchaseResult
+     */
+    public PlayFabResult<StartPurchaseResult> StartPurchase(final StartPurchaseRequest request) {
+        try {
+            return PlayFabClientAPI.privateStartPurchaseAsync(this, request);
+        } catch(Exception e) {
+            PlayFabResult<StartPurchaseResult> exceptionResult = new PlayFabResult<StartPurchaseResult>();
+            exceptionResult.Error = PlayFabHTTP.GeneratePfError(-1, PlayFabErrorCode.Unknown, e.getMessage(), null, null);
+            return exceptionResult;
+        }
+    }
+
+    /**
+     * Decrements the user's balance of the specified virtual currency by the stated amount. It is possible to make a VC
+     * balance negative with this API.
+     * @param request SubtractUserVirtualCurrencyRequest
+     * @return ModifyUserVirtualCurrencyResult
+     */
+    public PlayFabResult<ModifyUserVirtualCurrencyResult> SubtractUserVirtualCurrency(final SubtractUserVirtualCurrencyRequest request) {
+        try {
+            return PlayFabClientAPI.privateSubtractUserVirtualCurrencyAsync(this, request);
+        } catch(Exception e) {
+            PlayFabResult<ModifyUserVirtualCurrencyResult> exceptionResult = new PlayFabResult<ModifyUserVirtualCurrencyResult>();
+            exceptionResult.Error = PlayFabHTTP.GeneratePfError(-1, PlayFabErrorCode.Unknown, e.getMessage(), null, null);
+            return exceptionResult;
+        }
+    }
+
+    /**
+     * Unlinks the related Android device identifier from the user's PlayFab account
+     * @param request UnlinkAndroidDeviceIDRequest
+     * @return UnlinkAndroidDeviceIDResult
+     */
+    public PlayFabResult<UnlinkAndroidDeviceIDResult> UnlinkAndroidDeviceID(final UnlinkAndroidDeviceIDRequest request) {
+        try {
+            return PlayFabClientAPI.privateUnlinkAndroidDeviceIDAsync(this, request);
+        } catch(Exception e) {
+            PlayFabResult<UnlinkAndroidDeviceIDResult> exceptionResult = new PlayFabResult<UnlinkAndroidDeviceIDResult>();
+            exceptionResult.Error = PlayFabHTTP.GeneratePfError(-1, PlayFabErrorCode.Unknown, e.getMessage(), null, null);
+            return exceptionResult;
+        }
+    }
+
+    /**
+     * Unlinks the related Apple account from the user's PlayFab account.
+     * @param request UnlinkAppleRequest
+     * @return EmptyResponse
+     */
+    public PlayFabResult<EmptyResponse> UnlinkApple(final UnlinkAppleRequest request) {
+        try {
+            return PlayFabClientAPI.privateUnlinkAppleAsync(this, request);
+        } catch(Exception e) {
+            PlayFabResult<EmptyResponse> exceptionResult = new PlayFabResult<EmptyResponse>();
+            exceptionResult.Error = PlayFabHTTP.GeneratePfError(-1, PlayFabErrorCode.Unknown, e.getMessage(), null, null);
+            return exceptionResult;
+        }
+    }
+
+    /**
+     * Unlinks the related custom identifier from the user's PlayFab account
+     * @param request UnlinkCustomIDRequest
+     * @return UnlinkCustomIDResult
+     */
+    public PlayFabResult<UnlinkCustomIDResult> UnlinkCustomID(final UnlinkCustomIDRequest request) {
+        try {
+            return PlayFabClientAPI.privateUnlinkCustomIDAsync(this, request);
+        } catch(Exception e) {
+            PlayFabResult<UnlinkCustomIDResult> exceptionResult = new PlayFabResult<UnlinkCustomIDResult>();
+            exceptionResult.Error = PlayFabHTTP.GeneratePfError(-1, PlayFabErrorCode.Unknown, e.getMessage(), null, null);
+            return exceptionResult;
+        }
+    }
+
+    /**
+     * Unlinks the related Facebook account from the user's PlayFab account
+     * @param request UnlinkFacebookAccountRequest
+     * @return UnlinkFacebookAccountResult
+     */
+    public PlayFabResult<UnlinkFacebookAccountResult> UnlinkFacebookAccount(final UnlinkFacebookAccountRequest request) {
+        try {
+            return PlayFabClientAPI.privateUnlinkFacebookAccountAsync(this, request);
+        } catch(Exception e) {
+            PlayFabResult<UnlinkFacebookAccountResult> exceptionResult = new PlayFabResult<UnlinkFacebookAccountResult>();
+            exceptionResult.Error = PlayFabHTTP.GeneratePfError(-1, PlayFabErrorCode.Unknown, e.getMessage(), null, null);
+            return exceptionResult;
+        }
+    }
+
+    /**
+     * Unlinks the related Facebook Instant Game Ids from the user's PlayFab account
+     * @param request UnlinkFacebookInstantGamesIdRequest
+     * @return UnlinkFacebookInstantGamesIdResult
+     */
+    public PlayFabResult<UnlinkFacebookInstantGamesIdResult> UnlinkFacebookInstantGamesId(final UnlinkFacebookInstantGamesIdRequest request) {
+        try {
+            return PlayFabClientAPI.privateUnlinkFacebookInstantGamesIdAsync(this, request);
+        } catch(Exception e) {
+            PlayFabResult<UnlinkFacebookInstantGamesIdResult> exceptionResult = new PlayFabResult<UnlinkFacebookInstantGamesIdResult>();
+            exceptionResult.Error = PlayFabHTTP.GeneratePfError(-1, PlayFabErrorCode.Unknown, e.getMessage(), null, null);
+            return exceptionResult;
+        }
+    }
+
+    /**
+     * Unlinks the related Game Center account from the user's PlayFab account
+     * @param request UnlinkGameCenterAccountRequest
+     * @return UnlinkGameCenterAccountResult
+     */
+    public PlayFabResult<UnlinkGameCenterAccountResult> UnlinkGameCenterAccount(final UnlinkGameCenterAccountRequest request) {
+        try {
+            return PlayFabClientAPI.privateUnlinkGameCenterAccountAsync(this, request);
+        } catch(Exception e) {
+            PlayFabResult<UnlinkGameCenterAccountResult> exceptionResult = new PlayFabResult<UnlinkGameCenterAccountResult>();
+            exceptionResult.Error = PlayFabHTTP.GeneratePfError(-1, PlayFabErrorCode.Unknown, e.getMessage(), null, null);
+            return exceptionResult;
+        }
+    }
+
+    /**
+     * Unlinks the related Google account from the user's PlayFab account
+     * (https://developers.google.com/android/reference/com/google/android/gms/auth/GoogleAuthUtil#public-methods).
+     * @param request UnlinkGoogleAccountRequest
+     * @return UnlinkGoogleAccountResult
+     */
+    public PlayFabResult<UnlinkGoogleAccountResult> UnlinkGoogleAccount(final UnlinkGoogleAccountRequest request) {
+        try {
+            return PlayFabClientAPI.privateUnlinkGoogleAccountAsync(this, request);
+        } catch(Exception e) {
+            PlayFabResult<UnlinkGoogleAccountResult> exceptionResult = new PlayFabResult<UnlinkGoogleAccountResult>();
+            exceptionResult.Error = PlayFabHTTP.GeneratePfError(-1, PlayFabErrorCode.Unknown, e.getMessage(), null, null);
+            return exceptionResult;
+        }
+    }
+
+    /**
+     * Unlinks the related iOS device identifier from the user's PlayFab account
+     * @param request UnlinkIOSDeviceIDRequest
+     * @return UnlinkIOSDeviceIDResult
+     */
+    public PlayFabResult<UnlinkIOSDeviceIDResult> UnlinkIOSDeviceID(final UnlinkIOSDeviceIDRequest request) {
+        try {
+            return PlayFabClientAPI.privateUnlinkIOSDeviceIDAsync(this, request);
+        } catch(Exception e) {
+            PlayFabResult<UnlinkIOSDeviceIDResult> exceptionResult = new PlayFabResult<UnlinkIOSDeviceIDResult>();
+            exceptionResult.Error = PlayFabHTTP.GeneratePfError(-1, PlayFabErrorCode.Unknown, e.getMessage(), null, null);
+            return exceptionResult;
+        }
+    }
+
+    /**
+     * Unlinks the related Kongregate identifier from the user's PlayFab account
+     * @param request UnlinkKongregateAccountRequest
+     * @return UnlinkKongregateAccountResult
+     */
+    public PlayFabResult<UnlinkKongregateAccountResult> UnlinkKongregate(final UnlinkKongregateAccountRequest request) {
+        try {
+            return PlayFabClientAPI.privateUnlinkKongregateAsync(this, request);
+        } catch(Exception e) {
+            PlayFabResult<UnlinkKongregateAccountResult> exceptionResult = new PlayFabResult<UnlinkKongregateAccountResult>();
+            exceptionResult.Error = PlayFabHTTP.GeneratePfError(-1, PlayFabErrorCode.Unknown, e.getMessage(), null, null);
+            return exceptionResult;
+        }
+    }
+
+    /**
+     * Unlinks the related Nintendo account from the user's PlayFab account.
+     * @param request UnlinkNintendoServiceAccountRequest
+     * @return EmptyResponse
+     */
+    public PlayFabResult<EmptyResponse> UnlinkNintendoServiceAccount(final UnlinkNintendoServiceAccountRequest request) {
+        try {
+            return PlayFabClientAPI.privateUnlinkNintendoServiceAccountAsync(this, request);
+        } catch(Exception e) {
+            PlayFabResult<EmptyResponse> exceptionResult = new PlayFabResult<EmptyResponse>();
+            exceptionResult.Error = PlayFabHTTP.GeneratePfError(-1, PlayFabErrorCode.Unknown, e.getMessage(), null, null);
+            return exceptionResult;
+        }
+    }
+
+    /**
+     * Unlinks the related NintendoSwitchDeviceId from the user's PlayFab account
+     * @param request UnlinkNintendoSwitchDeviceIdRequest
+     * @return UnlinkNintendoSwitchDeviceIdResult
+     */
+    public PlayFabResult<UnlinkNintendoSwitchDeviceIdResult> UnlinkNintendoSwitchDeviceId(final UnlinkNintendoSwitchDeviceIdRequest request) {
+        try {
+            return PlayFabClientAPI.privateUnlinkNintendoSwitchDeviceIdAsync(this, request);
+        } catch(Exception e) {
+            PlayFabResult<UnlinkNintendoSwitchDeviceIdResult> exceptionResult = new PlayFabResult<UnlinkNintendoSwitchDeviceIdResult>();
+            exceptionResult.Error = PlayFabHTTP.GeneratePfError(-1, PlayFabErrorCode.Unknown, e.getMessage(), null, null);
+            return exceptionResult;
+        }
+    }
+
+    /**
+     * Unlinks an OpenID Connect account from a user's PlayFab account, based on the connection ID of an existing relationship
+     * between a title and an Open ID Connect provider.
+     * @param request UnlinkOpenIdConnectRequest
+     * @return EmptyResponse
+     */
+    public PlayFabResult<EmptyResponse> UnlinkOpenIdConnect(final UnlinkOpenIdConnectRequest request) {
+        try {
+            return PlayFabClientAPI.privateUnlinkOpenIdConnectAsync(this, request);
+        } catch(Exception e) {
+            PlayFabResult<EmptyResponse> exceptionResult = new PlayFabResult<EmptyResponse>();
+            exceptionResult.Error = PlayFabHTTP.GeneratePfError(-1, PlayFabErrorCode.Unknown, e.getMessage(), null, null);
+            return exceptionResult;
+        }
+    }
+
+    /**
+     * Unlinks the related PSN account from the user's PlayFab account
+     * @param request UnlinkPSNAccountRequest
+     * @return UnlinkPSNAccountResult
+     */
+    public PlayFabResult<UnlinkPSNAccountResult> UnlinkPSNAccount(final UnlinkPSNAccountRequest request) {
+        try {
+            return PlayFabClientAPI.privateUnlinkPSNAccountAsync(this, request);
+        } catch(Exception e) {
+            PlayFabResult<UnlinkPSNAccountResult> exceptionResult = new PlayFabResult<UnlinkPSNAccountResult>();
+            exceptionResult.Error = PlayFabHTTP.GeneratePfError(-1, PlayFabErrorCode.Unknown, e.getMessage(), null, null);
+            return exceptionResult;
+        }
+    }
+
+    /**
+     * Unlinks the related Steam account from the user's PlayFab account
+     * @param request UnlinkSteamAccountRequest
+     * @return UnlinkSteamAccountResult
+     */
+    public PlayFabResult<UnlinkSteamAccountResult> UnlinkSteamAccount(final UnlinkSteamAccountRequest request) {
+        try {
+            return PlayFabClientAPI.privateUnlinkSteamAccountAsync(this, request);
+        } catch(Exception e) {
+            PlayFabResult<UnlinkSteamAccountResult> exceptionResult = new PlayFabResult<UnlinkSteamAccountResult>();
+            exceptionResult.Error = PlayFabHTTP.GeneratePfError(-1, PlayFabErrorCode.Unknown, e.getMessage(), null, null);
+            return exceptionResult;
+        }
+    }
+
+    /**
+     * Unlinks the related Twitch account from the user's PlayFab account.
+     * @param request UnlinkTwitchAccountRequest
+     * @return UnlinkTwitchAccountResult
+     */
+    public PlayFabResult<UnlinkTwitchAccountResult> UnlinkTwitch(final UnlinkTwitchAccountRequest request) {
+        try {
+            return PlayFabClientAPI.privateUnlinkTwitchAsync(this, request);
+        } catch(Exception e) {
+            PlayFabResult<UnlinkTwitchAccountResult> exceptionResult = new PlayFabResult<UnlinkTwitchAccountResult>();
+            exceptionResult.Error = PlayFabHTTP.GeneratePfError(-1, PlayFabErrorCode.Unknown, e.getMessage(), null, null);
+            return exceptionResult;
+        }
+    }
+
+    /**
+     * Unlinks the related Xbox Live account from the user's PlayFab account
+     * @param request UnlinkXboxAccountRequest
+     * @return UnlinkXboxAccountResult
+     */
+    public PlayFabResult<UnlinkXboxAccountResult> UnlinkXboxAccount(final UnlinkXboxAccountRequest request) {
+        try {
+            return PlayFabClientAPI.privateUnlinkXboxAccountAsync(this, request);
+        } catch(Exception e) {
+            PlayFabResult<UnlinkXboxAccountResult> exceptionResult = new PlayFabResult<UnlinkXboxAccountResult>();
+            exceptionResult.Error = PlayFabHTTP.GeneratePfError(-1, PlayFabErrorCode.Unknown, e.getMessage(), null, null);
+            return exceptionResult;
+        }
+    }
+
+    /**
+     * Opens the specified container, with the specified key (when required), and returns the contents of the opened container.
+     * If the container (and key when relevant) are consumable (RemainingUses &gt; 0), their RemainingUses will be decremented,
+     * consistent with the operation of ConsumeItem.
+     * @param request UnlockContainerInstanceRequest
+     * @return UnlockContainerItemResult
+     */
+    public PlayFabResult<UnlockContainerItemResult> UnlockContainerInstance(final UnlockContainerInstanceRequest request) {
+        try {
+            return PlayFabClientAPI.privateUnlockContainerInstanceAsync(this, request);
+        } catch(Exception e) {
+            PlayFabResult<UnlockContainerItemResult> exceptionResult = new PlayFabResult<UnlockContainerItemResult>();
+            exceptionResult.Error = PlayFabHTTP.GeneratePfError(-1, PlayFabErrorCode.Unknown, e.getMessage(), null, null);
+            return exceptionResult;
+        }
+    }
+
+    /**
+     * Searches target inventory for an ItemInstance matching the given CatalogItemId, if necessary unlocks it using an
+     * appropriate key, and returns the contents of the opened container. If the container (and key when relevant) are
+     * consumable (RemainingUses &gt; 0), their RemainingUses will be decremented, consistent with the operation of ConsumeItem.
+     * @param request UnlockContainerItemRequest
+     * @return UnlockContainerItemResult
+     */
+    public PlayFabResult<UnlockContainerItemResult> UnlockContainerItem(final UnlockContainerItemRequest request) {
+        try {
+            return PlayFabClientAPI.privateUnlockContainerItemAsync(this, request);
+        } catch(Exception e) {
+            PlayFabResult<UnlockContainerItemResult> exceptionResult = new PlayFabResult<UnlockContainerItemResult>();
+            exceptionResult.Error = PlayFabHTTP.GeneratePfError(-1, PlayFabErrorCode.Unknown, e.getMessage(), null, null);
+            return exceptionResult;
+        }
+    }
+
+    /**
+     * Update the avatar URL of the player
+     * @param request UpdateAvatarUrlRequest
+     * @return EmptyResponse
+     */
+    public PlayFabResult<EmptyResponse> UpdateAvatarUrl(final UpdateAvatarUrlRequest request) {
+        try {
+            return PlayFabClientAPI.privateUpdateAvatarUrlAsync(this, request);
+        } catch(Exception e) {
+            PlayFabResult<EmptyResponse> exceptionResult = new PlayFabResult<EmptyResponse>();
+            exceptionResult.Error = PlayFabHTTP.GeneratePfError(-1, PlayFabErrorCode.Unknown, e.getMessage(), null, null);
+            return exceptionResult;
+        }
+    }
+
+    /**
+     * Creates and updates the title-specific custom data for the user's character which is readable and writable by the client
+     * @param request UpdateCharacterDataRequest
+     * @return UpdateCharacterDataResult
+     */
+    public PlayFabResult<UpdateCharacterDataResult> UpdateCharacterData(final UpdateCharacterDataRequest request) {
+        try {
+            return PlayFabClientAPI.privateUpdateCharacterDataAsync(this, request);
+        } catch(Exception e) {
+            PlayFabResult<UpdateCharacterDataResult> exceptionResult = new PlayFabResult<UpdateCharacterDataResult>();
+            exceptionResult.Error = PlayFabHTTP.GeneratePfError(-1, PlayFabErrorCode.Unknown, e.getMessage(), null, null);
+            return exceptionResult;
+        }
+    }
+
+    /**
+     * Updates the values of the specified title-specific statistics for the specific character. By default, clients are not
+     * permitted to update statistics. Developers may override this setting in the Game Manager &gt; Settings &gt; API Features.
+     * @param request UpdateCharacterStatisticsRequest
+     * @return UpdateCharacterStatisticsResult
+     */
+    public PlayFabResult<UpdateCharacterStatisticsResult> UpdateCharacterStatistics(final UpdateCharacterStatisticsRequest request) {
+        try {
+            return PlayFabClientAPI.privateUpdateCharacterStatisticsAsync(this, request);
+        } catch(Exception e) {
+            PlayFabResult<UpdateCharacterStatisticsResult> exceptionResult = new PlayFabResult<UpdateCharacterStatisticsResult>();
+            exceptionResult.Error = PlayFabHTTP.GeneratePfError(-1, PlayFabErrorCode.Unknown, e.getMessage(), null, null);
+            return exceptionResult;
+        }
+    }
+
+    /**
+     * Updates the values of the specified title-specific statistics for the user. By default, clients are not permitted to
+     * update statistics. Developers may override this setting in the Game Manager &gt; Settings &gt; API Features.
+     * @param request UpdatePlayerStatisticsRequest
+     * @return UpdatePlayerStatisticsResult
+     */
+    public PlayFabResult<UpdatePlayerStatisticsResult> UpdatePlayerStatistics(final UpdatePlayerStatisticsRequest request) {
+        try {
+            return PlayFabClientAPI.privateUpdatePlayerStatisticsAsync(this, request);
+        } catch(Exception e) {
+            PlayFabResult<UpdatePlayerStatisticsResult> exceptionResult = new PlayFabResult<UpdatePlayerStatisticsResult>();
+            exceptionResult.Error = PlayFabHTTP.GeneratePfError(-1, PlayFabErrorCode.Unknown, e.getMessage(), null, null);
+            return exceptionResult;
+        }
+    }
+
+    /**
+     * Adds, updates, and removes data keys for a shared group object. If the permission is set to Public, all fields updated
+     * or added in this call will be readable by users not in the group. By default, data permissions are set to Private.
+     * Regardless of the permission setting, only members of the group can update the data. Shared Groups are designed for
+     * sharing data between a very small number of players, please see our guide:
+     * https://docs.microsoft.com/gaming/playfab/features/social/groups/using-shared-group-data
+     * @param request UpdateSharedGroupDataRequest
+     * @return UpdateSharedGroupDataResult
+     */
+    public PlayFabResult<UpdateSharedGroupDataResult> UpdateSharedGroupData(final UpdateSharedGroupDataRequest request) {
+        try {
+            return PlayFabClientAPI.privateUpdateSharedGroupDataAsync(this, request);
+        } catch(Exception e) {
+            PlayFabResult<UpdateSharedGroupDataResult> exceptionResult = new PlayFabResult<UpdateSharedGroupDataResult>();
+            exceptionResult.Error = PlayFabHTTP.GeneratePfError(-1, PlayFabErrorCode.Unknown, e.getMessage(), null, null);
+            return exceptionResult;
+        }
+    }
+
+    /**
+     * Creates and updates the title-specific custom data for the user which is readable and writable by the client
+     * @param request UpdateUserDataRequest
+     * @return UpdateUserDataResult
+     */
+    public PlayFabResult<UpdateUserDataResult> UpdateUserData(final UpdateUserDataRequest request) {
+        try {
+            return PlayFabClientAPI.privateUpdateUserDataAsync(this, request);
+        } catch(Exception e) {
+            PlayFabResult<UpdateUserDataResult> exceptionResult = new PlayFabResult<UpdateUserDataResult>();
+            exceptionResult.Error = PlayFabHTTP.GeneratePfError(-1, PlayFabErrorCode.Unknown, e.getMessage(), null, null);
+            return exceptionResult;
+        }
+    }
+
+    /**
+     * Creates and updates the publisher-specific custom data for the user which is readable and writable by the client
+     * @param request UpdateUserDataRequest
+     * @return UpdateUserDataResult
+     */
+    public PlayFabResult<UpdateUserDataResult> UpdateUserPublisherData(final UpdateUserDataRequest request) {
+        try {
+            return PlayFabClientAPI.privateUpdateUserPublisherDataAsync(this, request);
+        } catch(Exception e) {
+            PlayFabResult<UpdateUserDataResult> exceptionResult = new PlayFabResult<UpdateUserDataResult>();
+            exceptionResult.Error = PlayFabHTTP.GeneratePfError(-1, PlayFabErrorCode.Unknown, e.getMessage(), null, null);
+            return exceptionResult;
+        }
+    }
+
+    /**
+     * Updates the title specific display name for the user
+     * @param request UpdateUserTitleDisplayNameRequest
+     * @return UpdateUserTitleDisplayNameResult
+     */
+    public PlayFabResult<UpdateUserTitleDisplayNameResult> UpdateUserTitleDisplayName(final UpdateUserTitleDisplayNameRequest request) {
+        try {
+            return PlayFabClientAPI.privateUpdateUserTitleDisplayNameAsync(this, request);
+        } catch(Exception e) {
+            PlayFabResult<UpdateUserTitleDisplayNameResult> exceptionResult = new PlayFabResult<UpdateUserTitleDisplayNameResult>();
+            exceptionResult.Error = PlayFabHTTP.GeneratePfError(-1, PlayFabErrorCode.Unknown, e.getMessage(), null, null);
+            return exceptionResult;
+        }
+    }
+
+    /**
+     * Validates with Amazon that the receipt for an Amazon App Store in-app purchase is valid and that it matches the
+     * purchased catalog item
+     * @param request ValidateAmazonReceiptRequest
+     * @return ValidateAmazonReceiptResult
+     */
+    public PlayFabResult<ValidateAmazonReceiptResult> ValidateAmazonIAPReceipt(final ValidateAmazonReceiptRequest request) {
+        try {
+            return PlayFabClientAPI.privateValidateAmazonIAPReceiptAsync(this, request);
+        } catch(Exception e) {
+            PlayFabResult<ValidateAmazonReceiptResult> exceptionResult = new PlayFabResult<ValidateAmazonReceiptResult>();
+            exceptionResult.Error = PlayFabHTTP.GeneratePfError(-1, PlayFabErrorCode.Unknown, e.getMessage(), null, null);
+            return exceptionResult;
+        }
+    }
+
+    /**
+     * Validates a Google Play purchase and gives the corresponding item to the player.
+     * @param request ValidateGooglePlayPurchaseRequest
+     * @return ValidateGooglePlayPurchaseResult
+     */
+    public PlayFabResult<ValidateGooglePlayPurchaseResult> ValidateGooglePlayPurchase(final ValidateGooglePlayPurchaseRequest request) {
+        try {
+            return PlayFabClientAPI.privateValidateGooglePlayPurchaseAsync(this, request);
+        } catch(Exception e) {
+            PlayFabResult<ValidateGooglePlayPurchaseResult> exceptionResult = new PlayFabResult<ValidateGooglePlayPurchaseResult>();
+            exceptionResult.Error = PlayFabHTTP.GeneratePfError(-1, PlayFabErrorCode.Unknown, e.getMessage(), null, null);
+            return exceptionResult;
+        }
+    }
+
+    /**
+     * Validates with the Apple store that the receipt for an iOS in-app purchase is valid and that it matches the purchased
+     * catalog item
+     * @param request ValidateIOSReceiptRequest
+     * @return ValidateIOSReceiptResult
+     */
+    public PlayFabResult<ValidateIOSReceiptResult> ValidateIOSReceipt(final ValidateIOSReceiptRequest request) {
+        try {
+            return PlayFabClientAPI.privateValidateIOSReceiptAsync(this, request);
+        } catch(Exception e) {
+            PlayFabResult<ValidateIOSReceiptResult> exceptionResult = new PlayFabResult<ValidateIOSReceiptResult>();
+            exceptionResult.Error = PlayFabHTTP.GeneratePfError(-1, PlayFabErrorCode.Unknown, e.getMessage(), null, null);
+            return exceptionResult;
+        }
+    }
+
+    /**
+     * Validates with Windows that the receipt for an Windows App Store in-app purchase is valid and that it matches the
+     * purchased catalog item
+     * @param request ValidateWindowsReceiptRequest
+     * @return ValidateWindowsReceiptResult
+     */
+    public PlayFabResult<ValidateWindowsReceiptResult> ValidateWindowsStoreReceipt(final ValidateWindowsReceiptRequest request) {
+        try {
+            return PlayFabClientAPI.privateValidateWindowsStoreReceiptAsync(this, request);
+        } catch(Exception e) {
+            PlayFabResult<ValidateWindowsReceiptResult> exceptionResult = new PlayFabResult<ValidateWindowsReceiptResult>();
+            exceptionResult.Error = PlayFabHTTP.GeneratePfError(-1, PlayFabErrorCode.Unknown, e.getMessage(), null, null);
+            return exceptionResult;
+        }
+    }
+
+    /**
+     * Writes a character-based event into PlayStream.
+     * @param request WriteClientCharacterEventRequest
+     * @return WriteEventResponse
+     */
+    public PlayFabResult<WriteEventResponse> WriteCharacterEvent(final WriteClientCharacterEventRequest request) {
+        try {
+            return PlayFabClientAPI.privateWriteCharacterEventAsync(this, request);
+        } catch(Exception e) {
+            PlayFabResult<WriteEventResponse> exceptionResult = new PlayFabResult<WriteEventResponse>();
+            exceptionResult.Error = PlayFabHTTP.GeneratePfError(-1, PlayFabErrorCode.Unknown, e.getMessage(), null, null);
+            return exceptionResult;
+        }
+    }
+
+    /**
+     * Writes a player-based event into PlayStream.
+     * @param request WriteClientPlayerEventRequest
+     * @return WriteEventResponse
+     */
+    public PlayFabResult<WriteEventResponse> WritePlayerEvent(final WriteClientPlayerEventRequest request) {
+        try {
+            return PlayFabClientAPI.privateWritePlayerEventAsync(this, request);
+        } catch(Exception e) {
+            PlayFabResult<WriteEventResponse> exceptionResult = new PlayFabResult<WriteEventResponse>();
+            exceptionResult.Error = PlayFabHTTP.GeneratePfError(-1, PlayFabErrorCode.Unknown, e.getMessage(), null, null);
+            return exceptionResult;
+        }
+    }
+
+    /**
+     * Writes a title-based event into PlayStream.
+     * @param request WriteTitleEventRequest
+     * @return WriteEventResponse
+     */
+    public PlayFabResult<WriteEventResponse> WriteTitleEvent(final WriteTitleEventRequest request) {
+        try {
+            return PlayFabClientAPI.privateWriteTitleEventAsync(this, request);
+        } catch(Exception e) {
+            PlayFabResult<WriteEventResponse> exceptionResult = new PlayFabResult<WriteEventResponse>();
+            exceptionResult.Error = PlayFabHTTP.GeneratePfError(-1, PlayFabErrorCode.Unknown, e.getMessage(), null, null);
+            return exceptionResult;
+        }
+    }
+
+    /**
+     * @return Non-blocking versions of every call, made with this object's context and started on PlayFabSettings.AsyncExecutor
+     */
+    public Async async() {
+        return async;
+    }
+
+    /**
+     * Non-blocking versions of the PlayFabClientInstanceAPI calls. Each call is already running when its PlayFabFuture is returned.
+     */
+    public class Async {
+        private Async() {
+        }
+
+        /**
+         * Accepts an open trade (one that has not yet been accepted or cancelled), if the locally signed-in player is in the
+         * allowed player list for the trade, or it is open to all players. If the call is successful, the offered and accepted
+         * items will be swapped between the two players' inventories.
+         * @param request AcceptTradeRequest
+         * @return Running future that will complete with AcceptTradeResponse
+         */
+        public PlayFabFuture<PlayFabResult<AcceptTradeResponse>> AcceptTrade(final AcceptTradeRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<AcceptTradeResponse>>() {
+                public PlayFabResult<AcceptTradeResponse> call() throws Exception {
+                    return PlayFabClientAPI.privateAcceptTradeAsync(PlayFabClientInstanceAPI.this, request);
+                }
+            });
+        }
+
+        /**
+         * Adds the PlayFab user, based upon a match against a supplied unique identifier, to the friend list of the local user. At
+         * least one of FriendPlayFabId,FriendUsername,FriendEmail, or FriendTitleDisplayName should be initialized.
+         * @param request AddFriendRequest
+         * @return Running future that will complete with AddFriendResult
+         */
+        public PlayFabFuture<PlayFabResult<AddFriendResult>> AddFriend(final AddFriendRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<AddFriendResult>>() {
+                public PlayFabResult<AddFriendResult> call() throws Exception {
+                    return PlayFabClientAPI.privateAddFriendAsync(PlayFabClientInstanceAPI.this, request);
+                }
+            });
+        }
+
+        /**
+         * Adds the specified generic service identifier to the player's PlayFab account. This is designed to allow for a PlayFab
+         * ID lookup of any arbitrary service identifier a title wants to add. This identifier should never be used as
+         * authentication credentials, as the intent is that it is easily accessible by other players.
+         * @param request AddGenericIDRequest
+         * @return Running future that will complete with AddGenericIDResult
+         */
+        public PlayFabFuture<PlayFabResult<AddGenericIDResult>> AddGenericID(final AddGenericIDRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<AddGenericIDResult>>() {
+                public PlayFabResult<AddGenericIDResult> call() throws Exception {
+                    return PlayFabClientAPI.privateAddGenericIDAsync(PlayFabClientInstanceAPI.this, request);
+                }
+            });
+        }
+
+        /**
+         * Adds or updates a contact email to the player's profile.
+         * @param request AddOrUpdateContactEmailRequest
+         * @return Running future that will complete with AddOrUpdateContactEmailResult
+         */
+        public PlayFabFuture<PlayFabResult<AddOrUpdateContactEmailResult>> AddOrUpdateContactEmail(final AddOrUpdateContactEmailRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<AddOrUpdateContactEmailResult>>() {
+                public PlayFabResult<AddOrUpdateContactEmailResult> call() throws Exception {
+                    return PlayFabClientAPI.privateAddOrUpdateContactEmailAsync(PlayFabClientInstanceAPI.this, request);
+                }
+            });
+        }
+
+        /**
+         * Adds users to the set of those able to update both the shared data, as well as the set of users in the group. Only users
+         * in the group can add new members. Shared Groups are designed for sharing data between a very small number of players,
+         * please see our guide: https://docs.microsoft.com/gaming/playfab/features/social/groups/using-shared-group-data
+         * @param request AddSharedGroupMembersRequest
+         * @return Running future that will complete with AddSharedGroupMembersResult
+         */
+        public PlayFabFuture<PlayFabResult<AddSharedGroupMembersResult>> AddSharedGroupMembers(final AddSharedGroupMembersRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<AddSharedGroupMembersResult>>() {
+                public PlayFabResult<AddSharedGroupMembersResult> call() throws Exception {
+                    return PlayFabClientAPI.privateAddSharedGroupMembersAsync(PlayFabClientInstanceAPI.this, request);
+                }
+            });
+        }
+
+        /**
+         * Adds playfab username/password auth to an existing account created via an anonymous auth method, e.g. automatic device
+         * ID login.
+         * @param request AddUsernamePasswordRequest
+         * @return Running future that will complete with AddUsernamePasswordResult
+         */
+        public PlayFabFuture<PlayFabResult<AddUsernamePasswordResult>> AddUsernamePassword(final AddUsernamePasswordRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<AddUsernamePasswordResult>>() {
+                public PlayFabResult<AddUsernamePasswordResult> call() throws Exception {
+                    return PlayFabClientAPI.privateAddUsernamePasswordAsync(PlayFabClientInstanceAPI.this, request);
+                }
+            });
+        }
+
+        /**
+         * Increments the user's balance of the specified virtual currency by the stated amount
+         * @param request AddUserVirtualCurrencyRequest
+         * @return Running future that will complete with ModifyUserVirtualCurrencyResult
+         */
+        public PlayFabFuture<PlayFabResult<ModifyUserVirtualCurrencyResult>> AddUserVirtualCurrency(final AddUserVirtualCurrencyRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<ModifyUserVirtualCurrencyResult>>() {
+                public PlayFabResult<ModifyUserVirtualCurrencyResult> call() throws Exception {
+                    return PlayFabClientAPI.privateAddUserVirtualCurrencyAsync(PlayFabClientInstanceAPI.this, request);
+                }
+            });
+        }
+
+        /**
+         * Registers the Android device to receive push notifications
+         * @param request AndroidDevicePushNotificationRegistrationRequest
+         * @return Running future that will complete with AndroidDevicePushNotificationRegistrationResult
+         */
+        public PlayFabFuture<PlayFabResult<AndroidDevicePushNotificationRegistrationResult>> AndroidDevicePushNotificationRegistration(final AndroidDevicePushNotificationRegistrationRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<AndroidDevicePushNotificationRegistrationResult>>() {
+                public PlayFabResult<AndroidDevicePushNotificationRegistrationResult> call() throws Exception {
+                    return PlayFabClientAPI.privateAndroidDevicePushNotificationRegistrationAsync(PlayFabClientInstanceAPI.this, request);
+                }
+            });
+        }
+
+        /**
+         * Attributes an install for advertisment.
+         * @param request AttributeInstallRequest
+         * @return Running future that will complete with AttributeInstallResult
+         */
+        public PlayFabFuture<PlayFabResult<AttributeInstallResult>> AttributeInstall(final AttributeInstallRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<AttributeInstallResult>>() {
+                public PlayFabResult<AttributeInstallResult> call() throws Exception {
+                    return PlayFabClientAPI.privateAttributeInstallAsync(PlayFabClientInstanceAPI.this, request);
+                }
+            });
+        }
+
+        /**
+         * Cancels an open trade (one that has not yet been accepted or cancelled). Note that only the player who created the trade
+         * can cancel it via this API call, to prevent griefing of the trade system (cancelling trades in order to prevent other
+         * players from accepting them, for trades that can be claimed by more than one player).
+         * @param request CancelTradeRequest
+         * @return Running future that will complete with CancelTradeResponse
+         */
+        public PlayFabFuture<PlayFabResult<CancelTradeResponse>> CancelTrade(final CancelTradeRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<CancelTradeResponse>>() {
+                public PlayFabResult<CancelTradeResponse> call() throws Exception {
+                    return PlayFabClientAPI.privateCancelTradeAsync(PlayFabClientInstanceAPI.this, request);
+                }
+            });
+        }
+
+        /**
+         * Confirms with the payment provider that the purchase was approved (if applicable) and adjusts inventory and virtual
+         * currency balances as appropriate
+         * @param request ConfirmPurchaseRequest
+         * @return Running future that will complete with ConfirmPurchaseResult
+         */
+        public PlayFabFuture<PlayFabResult<ConfirmPurchaseResult>> ConfirmPurchase(final ConfirmPurchaseRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<ConfirmPurchaseResult>>() {
+                public PlayFabResult<ConfirmPurchaseResult> call() throws Exception {
+                    return PlayFabClientAPI.privateConfirmPurchaseAsync(PlayFabClientInstanceAPI.this, request);
+                }
+            });
+        }
+
+        /**
+         * Consume uses of a consumable item. When all uses are consumed, it will be removed from the player's inventory.
+         * @param request ConsumeItemRequest
+         * @return Running future that will complete with ConsumeItemResult
+         */
+        public PlayFabFuture<PlayFabResult<ConsumeItemResult>> ConsumeItem(final ConsumeItemRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<ConsumeItemResult>>() {
+                public PlayFabResult<ConsumeItemResult> call() throws Exception {
+                    return PlayFabClientAPI.privateConsumeItemAsync(PlayFabClientInstanceAPI.this, request);
+                }
+            });
+        }
+
+        /**
+         * Grants the player's current entitlements from Microsoft Store's Collection API
+         * @param request ConsumeMicrosoftStoreEntitlementsRequest
+         * @return Running future that will complete with ConsumeMicrosoftStoreEntitlementsResponse
+         */
+        public PlayFabFuture<PlayFabResult<ConsumeMicrosoftStoreEntitlementsResponse>> ConsumeMicrosoftStoreEntitlements(final ConsumeMicrosoftStoreEntitlementsRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<ConsumeMicrosoftStoreEntitlementsResponse>>() {
+                public PlayFabResult<ConsumeMicrosoftStoreEntitlementsResponse> call() throws Exception {
+                    return PlayFabClientAPI.privateConsumeMicrosoftStoreEntitlementsAsync(PlayFabClientInstanceAPI.this, request);
+                }
+            });
+        }
+
+        /**
+         * Checks for any new PS5 entitlements. If any are found, they are consumed (if they're consumables) and added as PlayFab
+         * items
+         * @param request ConsumePS5EntitlementsRequest
+         * @return Running future that will complete with ConsumePS5EntitlementsResult
+         */
+        public PlayFabFuture<PlayFabResult<ConsumePS5EntitlementsResult>> ConsumePS5Entitlements(final ConsumePS5EntitlementsRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<ConsumePS5EntitlementsResult>>() {
+                public PlayFabResult<ConsumePS5EntitlementsResult> call() throws Exception {
+                    return PlayFabClientAPI.privateConsumePS5EntitlementsAsync(PlayFabClientInstanceAPI.this, request);
+                }
+            });
+        }
+
+        /**
+         * Checks for any new consumable entitlements. If any are found, they are consumed and added as PlayFab items
+         * @param request ConsumePSNEntitlementsRequest
+         * @return Running future that will complete with ConsumePSNEntitlementsResult
+         */
+        public PlayFabFuture<PlayFabResult<ConsumePSNEntitlementsResult>> ConsumePSNEntitlements(final ConsumePSNEntitlementsRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<ConsumePSNEntitlementsResult>>() {
+                public PlayFabResult<ConsumePSNEntitlementsResult> call() throws Exception {
+                    return PlayFabClientAPI.privateConsumePSNEntitlementsAsync(PlayFabClientInstanceAPI.this, request);
+                }
+            });
+        }
+
+        /**
+         * Grants the player's current entitlements from Xbox Live, consuming all availble items in Xbox and granting them to the
+         * player's PlayFab inventory. This call is idempotent and will not grant previously granted items to the player.
+         * @param request ConsumeXboxEntitlementsRequest
+         * @return Running future that will complete with ConsumeXboxEntitlementsResult
+         */
+        public PlayFabFuture<PlayFabResult<ConsumeXboxEntitlementsResult>> ConsumeXboxEntitlements(final ConsumeXboxEntitlementsRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<ConsumeXboxEntitlementsResult>>() {
+                public PlayFabResult<ConsumeXboxEntitlementsResult> call() throws Exception {
+                    return PlayFabClientAPI.privateConsumeXboxEntitlementsAsync(PlayFabClientInstanceAPI.this, request);
+                }
+            });
+        }
+
+        /**
+         * Requests the creation of a shared group object, containing key/value pairs which may be updated by all members of the
+         * group. Upon creation, the current user will be the only member of the group. Shared Groups are designed for sharing data
+         * between a very small number of players, please see our guide:
+         * https://docs.microsoft.com/gaming/playfab/features/social/groups/using-shared-group-data
+         * @param request CreateSharedGroupRequest
+         * @return Running future that will complete with CreateSharedGroupResult
+         */
+        public PlayFabFuture<PlayFabResult<CreateSharedGroupResult>> CreateSharedGroup(final CreateSharedGroupRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<CreateSharedGroupResult>>() {
+                public PlayFabResult<CreateSharedGroupResult> call() throws Exception {
+                    return PlayFabClientAPI.privateCreateSharedGroupAsync(PlayFabClientInstanceAPI.this, request);
+                }
+            });
+        }
+
+        /**
+         * Executes a CloudScript function, with the 'currentPlayerId' set to the PlayFab ID of the authenticated player.
+         * @param request ExecuteCloudScriptRequest
+         * @return Running future that will complete with ExecuteCloudScriptResult
+         */
+        public PlayFabFuture<PlayFabResult<ExecuteCloudScriptResult>> ExecuteCloudScript(final ExecuteCloudScriptRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<ExecuteCloudScriptResult>>() {
+                public PlayFabResult<ExecuteCloudScriptResult> call() throws Exception {
+                    return PlayFabClientAPI.privateExecuteCloudScriptAsync(PlayFabClientInstanceAPI.this, request);
+                }
+            });
+        }
+
+        /**
+         * Retrieves the user's PlayFab account details
+         * @param request GetAccountInfoRequest
+         * @return Running future that will complete with GetAccountInfoResult
+         */
+        public PlayFabFuture<PlayFabResult<GetAccountInfoResult>> GetAccountInfo(final GetAccountInfoRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<GetAccountInfoResult>>() {
+                public PlayFabResult<GetAccountInfoResult> call() throws Exception {
+                    return PlayFabClientAPI.privateGetAccountInfoAsync(PlayFabClientInstanceAPI.this, request);
+                }
+            });
+        }
+
+        /**
+         * Returns a list of ad placements and a reward for each
+         * @param request GetAdPlacementsRequest
+         * @return Running future that will complete with GetAdPlacementsResult
+         */
+        public PlayFabFuture<PlayFabResult<GetAdPlacementsResult>> GetAdPlacements(final GetAdPlacementsRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<GetAdPlacementsResult>>() {
+                public PlayFabResult<GetAdPlacementsResult> call() throws Exception {
+                    return PlayFabClientAPI.privateGetAdPlacementsAsync(PlayFabClientInstanceAPI.this, request);
+                }
+            });
+        }
+
+        /**
+         * Lists all of the characters that belong to a specific user. CharacterIds are not globally unique; characterId must be
+         * evaluated with the parent PlayFabId to guarantee uniqueness.
+         * @param request ListUsersCharactersRequest
+         * @return Running future that will complete with ListUsersCharactersResult
+         */
+        public PlayFabFuture<PlayFabResult<ListUsersCharactersResult>> GetAllUsersCharacters(final ListUsersCharactersRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<ListUsersCharactersResult>>() {
+                public PlayFabResult<ListUsersCharactersResult> call() throws Exception {
+                    return PlayFabClientAPI.privateGetAllUsersCharactersAsync(PlayFabClientInstanceAPI.this, request);
+                }
+            });
+        }
+
+        /**
+         * Retrieves the specified version of the title's catalog of virtual goods, including all defined properties
+         * @param request GetCatalogItemsRequest
+         * @return Running future that will complete with GetCatalogItemsResult
+         */
+        public PlayFabFuture<PlayFabResult<GetCatalogItemsResult>> GetCatalogItems(final GetCatalogItemsRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<GetCatalogItemsResult>>() {
+                public PlayFabResult<GetCatalogItemsResult> call() throws Exception {
+                    return PlayFabClientAPI.privateGetCatalogItemsAsync(PlayFabClientInstanceAPI.this, request);
+                }
+            });
+        }
+
+        /**
+         * Retrieves the title-specific custom data for the character which is readable and writable by the client
+         * @param request GetCharacterDataRequest
+         * @return Running future that will complete with GetCharacterDataResult
+         */
+        public PlayFabFuture<PlayFabResult<GetCharacterDataResult>> GetCharacterData(final GetCharacterDataRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<GetCharacterDataResult>>() {
+                public PlayFabResult<GetCharacterDataResult> call() throws Exception {
+                    return PlayFabClientAPI.privateGetCharacterDataAsync(PlayFabClientInstanceAPI.this, request);
+                }
+            });
+        }
+
+        /**
+         * Retrieves the specified character's current inventory of virtual goods
+         * @param request GetCharacterInventoryRequest
+         * @return Running future that will complete with GetCharacterInventoryResult
+         */
+        public PlayFabFuture<PlayFabResult<GetCharacterInventoryResult>> GetCharacterInventory(final GetCharacterInventoryRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<GetCharacterInventoryResult>>() {
+                public PlayFabResult<GetCharacterInventoryResult> call() throws Exception {
+                    return PlayFabClientAPI.privateGetCharacterInventoryAsync(PlayFabClientInstanceAPI.this, request);
+                }
+            });
+        }
+
+        /**
+         * Retrieves a list of ranked characters for the given statistic, starting from the indicated point in the leaderboard
+         * @param request GetCharacterLeaderboardRequest
+         * @return Running future that will complete with GetCharacterLeaderboardResult
+         */
+        public PlayFabFuture<PlayFabResult<GetCharacterLeaderboardResult>> GetCharacterLeaderboard(final GetCharacterLeaderboardRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<GetCharacterLeaderboardResult>>() {
+                public PlayFabResult<GetCharacterLeaderboardResult> call() throws Exception {
+                    return PlayFabClientAPI.privateGetCharacterLeaderboardAsync(PlayFabClientInstanceAPI.this, request);
+                }
+            });
+        }
+
+        /**
+         * Retrieves the title-specific custom data for the character which can only be read by the client
+         * @param request GetCharacterDataRequest
+         * @return Running future that will complete with GetCharacterDataResult
+         */
+        public PlayFabFuture<PlayFabResult<GetCharacterDataResult>> GetCharacterReadOnlyData(final GetCharacterDataRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<GetCharacterDataResult>>() {
+                public PlayFabResult<GetCharacterDataResult> call() throws Exception {
+                    return PlayFabClientAPI.privateGetCharacterReadOnlyDataAsync(PlayFabClientInstanceAPI.this, request);
+                }
+            });
+        }
+
+        /**
+         * Retrieves the details of all title-specific statistics for the user
+         * @param request GetCharacterStatisticsRequest
+         * @return Running future that will complete with GetCharacterStatisticsResult
+         */
+        public PlayFabFuture<PlayFabResult<GetCharacterStatisticsResult>> GetCharacterStatistics(final GetCharacterStatisticsRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<GetCharacterStatisticsResult>>() {
+                public PlayFabResult<GetCharacterStatisticsResult> call() throws Exception {
+                    return PlayFabClientAPI.privateGetCharacterStatisticsAsync(PlayFabClientInstanceAPI.this, request);
+                }
+            });
+        }
+
+        /**
+         * This API retrieves a pre-signed URL for accessing a content file for the title. A subsequent HTTP GET to the returned
+         * URL will attempt to download the content. A HEAD query to the returned URL will attempt to retrieve the metadata of the
+         * content. Note that a successful result does not guarantee the existence of this content - if it has not been uploaded,
+         * the query to retrieve the data will fail. See this post for more information:
+         * https://community.playfab.com/hc/community/posts/205469488-How-to-upload-files-to-PlayFab-s-Content-Service. Also,
+         * please be aware that the Content service is specifically PlayFab's CDN offering, for which standard CDN rates apply.
+         * @param request GetContentDownloadUrlRequest
+         * @return Running future that will complete with GetContentDownloadUrlResult
+         */
+        public PlayFabFuture<PlayFabResult<GetContentDownloadUrlResult>> GetContentDownloadUrl(final GetContentDownloadUrlRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<GetContentDownloadUrlResult>>() {
+                public PlayFabResult<GetContentDownloadUrlResult> call() throws Exception {
+                    return PlayFabClientAPI.privateGetContentDownloadUrlAsync(PlayFabClientInstanceAPI.this, request);
+                }
+            });
+        }
+
+        /**
+         * Get details about all current running game servers matching the given parameters.
+         * @param request CurrentGamesRequest
+         * @return Running future that will complete with CurrentGamesResult
+         */
+        public PlayFabFuture<PlayFabResult<CurrentGamesResult>> GetCurrentGames(final CurrentGamesRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<CurrentGamesResult>>() {
+                public PlayFabResult<CurrentGamesResult> call() throws Exception {
+                    return PlayFabClientAPI.privateGetCurrentGamesAsync(PlayFabClientInstanceAPI.this, request);
+                }
+            });
+        }
+
+        /**
+         * Retrieves a list of ranked friends of the current player for the given statistic, starting from the indicated point in
+         * the leaderboard
+         * @param request GetFriendLeaderboardRequest
+         * @return Running future that will complete with GetLeaderboardResult
+         */
+        public PlayFabFuture<PlayFabResult<GetLeaderboardResult>> GetFriendLeaderboard(final GetFriendLeaderboardRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<GetLeaderboardResult>>() {
+                public PlayFabResult<GetLeaderboardResult> call() throws Exception {
+                    return PlayFabClientAPI.privateGetFriendLeaderboardAsync(PlayFabClientInstanceAPI.this, request);
+                }
+            });
+        }
+
+        /**
+         * Retrieves a list of ranked friends of the current player for the given statistic, centered on the requested PlayFab
+         * user. If PlayFabId is empty or null will return currently logged in user.
+         * @param request GetFriendLeaderboardAroundPlayerRequest
+         * @return Running future that will complete with GetFriendLeaderboardAroundPlayerResult
+         */
+        public PlayFabFuture<PlayFabResult<GetFriendLeaderboardAroundPlayerResult>> GetFriendLeaderboardAroundPlayer(final GetFriendLeaderboardAroundPlayerRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<GetFriendLeaderboardAroundPlayerResult>>() {
+                public PlayFabResult<GetFriendLeaderboardAroundPlayerResult> call() throws Exception {
+                    return PlayFabClientAPI.privateGetFriendLeaderboardAroundPlayerAsync(PlayFabClientInstanceAPI.this, request);
+                }
+            });
+        }
+
+        /**
+         * Retrieves the current friend list for the local user, constrained to users who have PlayFab accounts. Friends from
+         * linked accounts (Facebook, Steam) are also included. You may optionally exclude some linked services' friends.
+         * @param request GetFriendsListRequest
+         * @return Running future that will complete with GetFriendsListResult
+         */
+        public PlayFabFuture<PlayFabResult<GetFriendsListResult>> GetFriendsList(final GetFriendsListRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<GetFriendsListResult>>() {
+                public PlayFabResult<GetFriendsListResult> call() throws Exception {
+                    return PlayFabClientAPI.privateGetFriendsListAsync(PlayFabClientInstanceAPI.this, request);
+                }
+            });
+        }
+
+        /**
+         * Get details about the regions hosting game servers matching the given parameters.
+         * @param request GameServerRegionsRequest
+         * @return Running future that will complete with GameServerRegionsResult
+         */
+        public PlayFabFuture<PlayFabResult<GameServerRegionsResult>> GetGameServerRegions(final GameServerRegionsRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<GameServerRegionsResult>>() {
+                public PlayFabResult<GameServerRegionsResult> call() throws Exception {
+                    return PlayFabClientAPI.privateGetGameServerRegionsAsync(PlayFabClientInstanceAPI.this, request);
+                }
+            });
+        }
+
+        /**
+         * Retrieves a list of ranked users for the given statistic, starting from the indicated point in the leaderboard
+         * @param request GetLeaderboardRequest
+         * @return Running future that will complete with GetLeaderboardResult
+         */
+        public PlayFabFuture<PlayFabResult<GetLeaderboardResult>> GetLeaderboard(final GetLeaderboardRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<GetLeaderboardResult>>() {
+                public PlayFabResult<GetLeaderboardResult> call() throws Exception {
+                    return PlayFabClientAPI.privateGetLeaderboardAsync(PlayFabClientInstanceAPI.this, request);
+                }
+            });
+        }
+
+        /**
+         * Retrieves a list of ranked characters for the given statistic, centered on the requested Character ID
+         * @param request GetLeaderboardAroundCharacterRequest
+         * @return Running future that will complete with GetLeaderboardAroundCharacterResult
+         */
+        public PlayFabFuture<PlayFabResult<GetLeaderboardAroundCharacterResult>> GetLeaderboardAroundCharacter(final GetLeaderboardAroundCharacterRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<GetLeaderboardAroundCharacterResult>>() {
+                public PlayFabResult<GetLeaderboardAroundCharacterResult> call() throws Exception {
+                    return PlayFabClientAPI.privateGetLeaderboardAroundCharacterAsync(PlayFabClientInstanceAPI.this, request);
+                }
+            });
+        }
+
+        /**
+         * Retrieves a list of ranked users for the given statistic, centered on the requested player. If PlayFabId is empty or
+         * null will return currently logged in user.
+         * @param request GetLeaderboardAroundPlayerRequest
+         * @return Running future that will complete with GetLeaderboardAroundPlayerResult
+         */
+        public PlayFabFuture<PlayFabResult<GetLeaderboardAroundPlayerResult>> GetLeaderboardAroundPlayer(final GetLeaderboardAroundPlayerRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<GetLeaderboardAroundPlayerResult>>() {
+                public PlayFabResult<GetLeaderboardAroundPlayerResult> call() throws Exception {
+                    return PlayFabClientAPI.privateGetLeaderboardAroundPlayerAsync(PlayFabClientInstanceAPI.this, request);
+                }
+            });
+        }
+
+        /**
+         * Retrieves a list of all of the user's characters for the given statistic.
+         * @param request GetLeaderboardForUsersCharactersRequest
+         * @return Running future that will complete with GetLeaderboardForUsersCharactersResult
+         */
+        public PlayFabFuture<PlayFabResult<GetLeaderboardForUsersCharactersResult>> GetLeaderboardForUserCharacters(final GetLeaderboardForUsersCharactersRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<GetLeaderboardForUsersCharactersResult>>() {
+                public PlayFabResult<GetLeaderboardForUsersCharactersResult> call() throws Exception {
+                    return PlayFabClientAPI.privateGetLeaderboardForUserCharactersAsync(PlayFabClientInstanceAPI.this, request);
+                }
+            });
+        }
+
+        /**
+         * For payments flows where the provider requires playfab (the fulfiller) to initiate the transaction, but the client
+         * completes the rest of the flow. In the Xsolla case, the token returned here will be passed to Xsolla by the client to
+         * create a cart. Poll GetPurchase using the returned OrderId once you've completed the payment.
+         * @param request GetPaymentTokenRequest
+         * @return Running future that will complete with GetPaymentTokenResult
+         */
+        public PlayFabFuture<PlayFabResult<GetPaymentTokenResult>> GetPaymentToken(final GetPaymentTokenRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<GetPaymentTokenResult>>() {
+                public PlayFabResult<GetPaymentTokenResult> call() throws Exception {
+                    return PlayFabClientAPI.privateGetPaymentTokenAsync(PlayFabClientInstanceAPI.this, request);
+                }
+            });
+        }
+
+        /**
+         * Gets a Photon custom authentication token that can be used to securely join the player into a Photon room. See
+         * https://docs.microsoft.com/gaming/playfab/features/multiplayer/photon/quickstart for more details.
+         * @param request GetPhotonAuthenticationTokenRequest
+         * @return Running future that will complete with GetPhotonAuthenticationTokenResult
+         */
+        public PlayFabFuture<PlayFabResult<GetPhotonAuthenticationTokenResult>> GetPhotonAuthenticationToken(final GetPhotonAuthenticationTokenRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<GetPhotonAuthenticationTokenResult>>() {
+                public PlayFabResult<GetPhotonAuthenticationTokenResult> call() throws Exception {
+                    return PlayFabClientAPI.privateGetPhotonAuthenticationTokenAsync(PlayFabClientInstanceAPI.this, request);
+                }
+            });
+        }
+
+        /**
+         * Retrieves all of the user's different kinds of info.
+         * @param request GetPlayerCombinedInfoRequest
+         * @return Running future that will complete with GetPlayerCombinedInfoResult
+         */
+        public PlayFabFuture<PlayFabResult<GetPlayerCombinedInfoResult>> GetPlayerCombinedInfo(final GetPlayerCombinedInfoRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<GetPlayerCombinedInfoResult>>() {
+                public PlayFabResult<GetPlayerCombinedInfoResult> call() throws Exception {
+                    return PlayFabClientAPI.privateGetPlayerCombinedInfoAsync(PlayFabClientInstanceAPI.this, request);
+                }
+            });
+        }
+
+        /**
+         * Retrieves the player's profile
+         * @param request GetPlayerProfileRequest
+         * @return Running future that will complete with GetPlayerProfileResult
+         */
+        public PlayFabFuture<PlayFabResult<GetPlayerProfileResult>> GetPlayerProfile(final GetPlayerProfileRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<GetPlayerProfileResult>>() {
+                public PlayFabResult<GetPlayerProfileResult> call() throws Exception {
+                    return PlayFabClientAPI.privateGetPlayerProfileAsync(PlayFabClientInstanceAPI.this, request);
+                }
+            });
+        }
+
+        /**
+         * List all segments that a player currently belongs to at this moment in time.
+         * @param request GetPlayerSegmentsRequest
+         * @return Running future that will complete with GetPlayerSegmentsResult
+         */
+        public PlayFabFuture<PlayFabResult<GetPlayerSegmentsResult>> GetPlayerSegments(final GetPlayerSegmentsRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<GetPlayerSegmentsResult>>() {
+                public PlayFabResult<GetPlayerSegmentsResult> call() throws Exception {
+                    return PlayFabClientAPI.privateGetPlayerSegmentsAsync(PlayFabClientInstanceAPI.this, request);
+                }
+            });
+        }
+
+        /**
+         * Retrieves the indicated statistics (current version and values for all statistics, if none are specified), for the local
+         * player.
+         * @param request GetPlayerStatisticsRequest
+         * @return Running future that will complete with GetPlayerStatisticsResult
+         */
+        public PlayFabFuture<PlayFabResult<GetPlayerStatisticsResult>> GetPlayerStatistics(final GetPlayerStatisticsRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<GetPlayerStatisticsResult>>() {
+                public PlayFabResult<GetPlayerStatisticsResult> call() throws Exception {
+                    return PlayFabClientAPI.privateGetPlayerStatisticsAsync(PlayFabClientInstanceAPI.this, request);
+                }
+            });
+        }
+
+        /**
+         * Retrieves the information on the available versions of the specified statistic.
+         * @param request GetPlayerStatisticVersionsRequest
+         * @return Running future that will complete with GetPlayerStatisticVersionsResult
+         */
+        public PlayFabFuture<PlayFabResult<GetPlayerStatisticVersionsResult>> GetPlayerStatisticVersions(final GetPlayerStatisticVersionsRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<GetPlayerStatisticVersionsResult>>() {
+                public PlayFabResult<GetPlayerStatisticVersionsResult> call() throws Exception {
+                    return PlayFabClientAPI.privateGetPlayerStatisticVersionsAsync(PlayFabClientInstanceAPI.this, request);
+                }
+            });
+        }
+
+        /**
+         * Get all tags with a given Namespace (optional) from a player profile.
+         * @param request GetPlayerTagsRequest
+         * @return Running future that will complete with GetPlayerTagsResult
+         */
+        public PlayFabFuture<PlayFabResult<GetPlayerTagsResult>> GetPlayerTags(final GetPlayerTagsRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<GetPlayerTagsResult>>() {
+                public PlayFabResult<GetPlayerTagsResult> call() throws Exception {
+                    return PlayFabClientAPI.privateGetPlayerTagsAsync(PlayFabClientInstanceAPI.this, request);
+                }
+            });
+        }
+
+        /**
+         * Gets all trades the player has either opened or accepted, optionally filtered by trade status.
+         * @param request GetPlayerTradesRequest
+         * @return Running future that will complete with GetPlayerTradesResponse
+         */
+        public PlayFabFuture<PlayFabResult<GetPlayerTradesResponse>> GetPlayerTrades(final GetPlayerTradesRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<GetPlayerTradesResponse>>() {
+                public PlayFabResult<GetPlayerTradesResponse> call() throws Exception {
+                    return PlayFabClientAPI.privateGetPlayerTradesAsync(PlayFabClientInstanceAPI.this, request);
+                }
+            });
+        }
+
+        /**
+         * Retrieves the unique PlayFab identifiers for the given set of Facebook identifiers.
+         * @param request GetPlayFabIDsFromFacebookIDsRequest
+         * @return Running future that will complete with GetPlayFabIDsFromFacebookIDsResult
+         */
+        public PlayFabFuture<PlayFabResult<GetPlayFabIDsFromFacebookIDsResult>> GetPlayFabIDsFromFacebookIDs(final GetPlayFabIDsFromFacebookIDsRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<GetPlayFabIDsFromFacebookIDsResult>>() {
+                public PlayFabResult<GetPlayFabIDsFromFacebookIDsResult> call() throws Exception {
+                    return PlayFabClientAPI.privateGetPlayFabIDsFromFacebookIDsAsync(PlayFabClientInstanceAPI.this, request);
+                }
+            });
+        }
+
+        /**
+         * Retrieves the unique PlayFab identifiers for the given set of Facebook Instant Game identifiers.
+         * @param request GetPlayFabIDsFromFacebookInstantGamesIdsRequest
+         * @return Running future that will complete with GetPlayFabIDsFromFacebookInstantGamesIdsResult
+         */
+        public PlayFabFuture<PlayFabResult<GetPlayFabIDsFromFacebookInstantGamesIdsResult>> GetPlayFabIDsFromFacebookInstantGamesIds(final GetPlayFabIDsFromFacebookInstantGamesIdsRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<GetPlayFabIDsFromFacebookInstantGamesIdsResult>>() {
+                public PlayFabResult<GetPlayFabIDsFromFacebookInstantGamesIdsResult> call() throws Exception {
+                    return PlayFabClientAPI.privateGetPlayFabIDsFromFacebookInstantGamesIdsAsync(PlayFabClientInstanceAPI.this, request);
+                }
+            });
+        }
+
+        /**
+         * Retrieves the unique PlayFab identifiers for the given set of Game Center identifiers (referenced in the Game Center
+         * Programming Guide as the Player Identifier).
+         * @param request GetPlayFabIDsFromGameCenterIDsRequest
+         * @return Running future that will complete with GetPlayFabIDsFromGameCenterIDsResult
+         */
+        public PlayFabFuture<PlayFabResult<GetPlayFabIDsFromGameCenterIDsResult>> GetPlayFabIDsFromGameCenterIDs(final GetPlayFabIDsFromGameCenterIDsRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<GetPlayFabIDsFromGameCenterIDsResult>>() {
+                public PlayFabResult<GetPlayFabIDsFromGameCenterIDsResult> call() throws Exception {
+                    return PlayFabClientAPI.privateGetPlayFabIDsFromGameCenterIDsAsync(PlayFabClientInstanceAPI.this, request);
+                }
+            });
+        }
+
+        /**
+         * Retrieves the unique PlayFab identifiers for the given set of generic service identifiers. A generic identifier is the
+         * service name plus the service-specific ID for the player, as specified by the title when the generic identifier was
+         * added to the player account.
+         * @param request GetPlayFabIDsFromGenericIDsRequest
+         * @return Running future that will complete with GetPlayFabIDsFromGenericIDsResult
+         */
+        public PlayFabFuture<PlayFabResult<GetPlayFabIDsFromGenericIDsResult>> GetPlayFabIDsFromGenericIDs(final GetPlayFabIDsFromGenericIDsRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<GetPlayFabIDsFromGenericIDsResult>>() {
+                public PlayFabResult<GetPlayFabIDsFromGenericIDsResult> call() throws Exception {
+                    return PlayFabClientAPI.privateGetPlayFabIDsFromGenericIDsAsync(PlayFabClientInstanceAPI.this, request);
+                }
+            });
+        }
+
+        /**
+         * Retrieves the unique PlayFab identifiers for the given set of Google identifiers. The Google identifiers are the IDs for
+         * the user accounts, available as "id" in the Google+ People API calls.
+         * @param request GetPlayFabIDsFromGoogleIDsRequest
+         * @return Running future that will complete with GetPlayFabIDsFromGoogleIDsResult
+         */
+        public PlayFabFuture<PlayFabResult<GetPlayFabIDsFromGoogleIDsResult>> GetPlayFabIDsFromGoogleIDs(final GetPlayFabIDsFromGoogleIDsRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<GetPlayFabIDsFromGoogleIDsResult>>() {
+                public PlayFabResult<GetPlayFabIDsFromGoogleIDsResult> call() throws Exception {
+                    return PlayFabClientAPI.privateGetPlayFabIDsFromGoogleIDsAsync(PlayFabClientInstanceAPI.this, request);
+                }
+            });
+        }
+
+        /**
+         * Retrieves the unique PlayFab identifiers for the given set of Kongregate identifiers. The Kongregate identifiers are the
+         * IDs for the user accounts, available as "user_id" from the Kongregate API methods(ex:
+         * http://developers.kongregate.com/docs/client/getUserId).
+         * @param request GetPlayFabIDsFromKongregateIDsRequest
+         * @return Running future that will complete with GetPlayFabIDsFromKongregateIDsResult
+         */
+        public PlayFabFuture<PlayFabResult<GetPlayFabIDsFromKongregateIDsResult>> GetPlayFabIDsFromKongregateIDs(final GetPlayFabIDsFromKongregateIDsRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<GetPlayFabIDsFromKongregateIDsResult>>() {
+                public PlayFabResult<GetPlayFabIDsFromKongregateIDsResult> call() throws Exception {
+                    return PlayFabClientAPI.privateGetPlayFabIDsFromKongregateIDsAsync(PlayFabClientInstanceAPI.this, request);
+                }
+            });
+        }
+
+        /**
+         * Retrieves the unique PlayFab identifiers for the given set of Nintendo Switch identifiers.
+         * @param request GetPlayFabIDsFromNintendoSwitchDeviceIdsRequest
+         * @return Running future that will complete with GetPlayFabIDsFromNintendoSwitchDeviceIdsResult
+         */
+        public PlayFabFuture<PlayFabResult<GetPlayFabIDsFromNintendoSwitchDeviceIdsResult>> GetPlayFabIDsFromNintendoSwitchDeviceIds(final GetPlayFabIDsFromNintendoSwitchDeviceIdsRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<GetPlayFabIDsFromNintendoSwitchDeviceIdsResult>>() {
+                public PlayFabResult<GetPlayFabIDsFromNintendoSwitchDeviceIdsResult> call() throws Exception {
+                    return PlayFabClientAPI.privateGetPlayFabIDsFromNintendoSwitchDeviceIdsAsync(PlayFabClientInstanceAPI.this, request);
+                }
+            });
+        }
+
+        /**
+         * Retrieves the unique PlayFab identifiers for the given set of PlayStation Network identifiers.
+         * @param request GetPlayFabIDsFromPSNAccountIDsRequest
+         * @return Running future that will complete with GetPlayFabIDsFromPSNAccountIDsResult
+         */
+        public PlayFabFuture<PlayFabResult<GetPlayFabIDsFromPSNAccountIDsResult>> GetPlayFabIDsFromPSNAccountIDs(final GetPlayFabIDsFromPSNAccountIDsRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<GetPlayFabIDsFromPSNAccountIDsResult>>() {
+                public PlayFabResult<GetPlayFabIDsFromPSNAccountIDsResult> call() throws Exception {
+                    return PlayFabClientAPI.privateGetPlayFabIDsFromPSNAccountIDsAsync(PlayFabClientInstanceAPI.this, request);
+                }
+            });
+        }
+
+        /**
+         * Retrieves the unique PlayFab identifiers for the given set of Steam identifiers. The Steam identifiers are the profile
+         * IDs for the user accounts, available as SteamId in the Steamworks Community API calls.
+         * @param request GetPlayFabIDsFromSteamIDsRequest
+         * @return Running future that will complete with GetPlayFabIDsFromSteamIDsResult
+         */
+        public PlayFabFuture<PlayFabResult<GetPlayFabIDsFromSteamIDsResult>> GetPlayFabIDsFromSteamIDs(final GetPlayFabIDsFromSteamIDsRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<GetPlayFabIDsFromSteamIDsResult>>() {
+                public PlayFabResult<GetPlayFabIDsFromSteamIDsResult> call() throws Exception {
+                    return PlayFabClientAPI.privateGetPlayFabIDsFromSteamIDsAsync(PlayFabClientInstanceAPI.this, request);
+                }
+            });
+        }
+
+        /**
+         * Retrieves the unique PlayFab identifiers for the given set of Twitch identifiers. The Twitch identifiers are the IDs for
+         * the user accounts, available as "_id" from the Twitch API methods (ex:
+         * https://github.com/justintv/Twitch-API/blob/master/v3_resources/users.md#get-usersuser).
+         * @param request GetPlayFabIDsFromTwitchIDsRequest
+         * @return Running future that will complete with GetPlayFabIDsFromTwitchIDsResult
+         */
+        public PlayFabFuture<PlayFabResult<GetPlayFabIDsFromTwitchIDsResult>> GetPlayFabIDsFromTwitchIDs(final GetPlayFabIDsFromTwitchIDsRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<GetPlayFabIDsFromTwitchIDsResult>>() {
+                public PlayFabResult<GetPlayFabIDsFromTwitchIDsResult> call() throws Exception {
+                    return PlayFabClientAPI.privateGetPlayFabIDsFromTwitchIDsAsync(PlayFabClientInstanceAPI.this, request);
+                }
+            });
+        }
+
+        /**
+         * Retrieves the unique PlayFab identifiers for the given set of XboxLive identifiers.
+         * @param request GetPlayFabIDsFromXboxLiveIDsRequest
+         * @return Running future that will complete with GetPlayFabIDsFromXboxLiveIDsResult
+         */
+        public PlayFabFuture<PlayFabResult<GetPlayFabIDsFromXboxLiveIDsResult>> GetPlayFabIDsFromXboxLiveIDs(final GetPlayFabIDsFromXboxLiveIDsRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<GetPlayFabIDsFromXboxLiveIDsResult>>() {
+                public PlayFabResult<GetPlayFabIDsFromXboxLiveIDsResult> call() throws Exception {
+                    return PlayFabClientAPI.privateGetPlayFabIDsFromXboxLiveIDsAsync(PlayFabClientInstanceAPI.this, request);
+                }
+            });
+        }
+
+        /**
+         * Retrieves the key-value store of custom publisher settings
+         * @param request GetPublisherDataRequest
+         * @return Running future that will complete with GetPublisherDataResult
+         */
+        public PlayFabFuture<PlayFabResult<GetPublisherDataResult>> GetPublisherData(final GetPublisherDataRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<GetPublisherDataResult>>() {
+                public PlayFabResult<GetPublisherDataResult> call() throws Exception {
+                    return PlayFabClientAPI.privateGetPublisherDataAsync(PlayFabClientInstanceAPI.this, request);
+                }
+            });
+        }
+
+        /**
+         * Retrieves a purchase along with its current PlayFab status. Returns inventory items from the purchase that are still
+         * active.
+         * @param request GetPurchaseRequest
+         * @return Running future that will complete with GetPurchaseResult
+         */
+        public PlayFabFuture<PlayFabResult<GetPurchaseResult>> GetPurchase(final GetPurchaseRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<GetPurchaseResult>>() {
+                public PlayFabResult<GetPurchaseResult> call() throws Exception {
+                    return PlayFabClientAPI.privateGetPurchaseAsync(PlayFabClientInstanceAPI.this, request);
+                }
+            });
+        }
+
+        /**
+         * Retrieves data stored in a shared group object, as well as the list of members in the group. Non-members of the group
+         * may use this to retrieve group data, including membership, but they will not receive data for keys marked as private.
+         * Shared Groups are designed for sharing data between a very small number of players, please see our guide:
+         * https://docs.microsoft.com/gaming/playfab/features/social/groups/using-shared-group-data
+         * @param request GetSharedGroupDataRequest
+         * @return Running future that will complete with GetSharedGroupDataResult
+         */
+        public PlayFabFuture<PlayFabResult<GetSharedGroupDataResult>> GetSharedGroupData(final GetSharedGroupDataRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<GetSharedGroupDataResult>>() {
+                public PlayFabResult<GetSharedGroupDataResult> call() throws Exception {
+                    return PlayFabClientAPI.privateGetSharedGroupDataAsync(PlayFabClientInstanceAPI.this, request);
+                }
+            });
+        }
+
+        /**
+         * Retrieves the set of items defined for the specified store, including all prices defined
+         * @param request GetStoreItemsRequest
+         * @return Running future that will complete with GetStoreItemsResult
+         */
+        public PlayFabFuture<PlayFabResult<GetStoreItemsResult>> GetStoreItems(final GetStoreItemsRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<GetStoreItemsResult>>() {
+                public PlayFabResult<GetStoreItemsResult> call() throws Exception {
+                    return PlayFabClientAPI.privateGetStoreItemsAsync(PlayFabClientInstanceAPI.this, request);
+                }
+            });
+        }
+
+        /**
+         * Retrieves the current server time
+         * @param request GetTimeRequest
+         * @return Running future that will complete with GetTimeResult
+         */
+        public PlayFabFuture<PlayFabResult<GetTimeResult>> GetTime(final GetTimeRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<GetTimeResult>>() {
+                public PlayFabResult<GetTimeResult> call() throws Exception {
+                    return PlayFabClientAPI.privateGetTimeAsync(PlayFabClientInstanceAPI.this, request);
+                }
+            });
+        }
+
+        /**
+         * Retrieves the key-value store of custom title settings
+         * @param request GetTitleDataRequest
+         * @return Running future that will complete with GetTitleDataResult
+         */
+        public PlayFabFuture<PlayFabResult<GetTitleDataResult>> GetTitleData(final GetTitleDataRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<GetTitleDataResult>>() {
+                public PlayFabResult<GetTitleDataResult> call() throws Exception {
+                    return PlayFabClientAPI.privateGetTitleDataAsync(PlayFabClientInstanceAPI.this, request);
+                }
+            });
+        }
+
+        /**
+         * Retrieves the title news feed, as configured in the developer portal
+         * @param request GetTitleNewsRequest
+         * @return Running future that will complete with GetTitleNewsResult
+         */
+        public PlayFabFuture<PlayFabResult<GetTitleNewsResult>> GetTitleNews(final GetTitleNewsRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<GetTitleNewsResult>>() {
+                public PlayFabResult<GetTitleNewsResult> call() throws Exception {
+                    return PlayFabClientAPI.privateGetTitleNewsAsync(PlayFabClientInstanceAPI.this, request);
+                }
+            });
+        }
+
+        /**
+         * Returns the title's base 64 encoded RSA CSP blob.
+         * @param request GetTitlePublicKeyRequest
+         * @return Running future that will complete with GetTitlePublicKeyResult
+         */
+        public PlayFabFuture<PlayFabResult<GetTitlePublicKeyResult>> GetTitlePublicKey(final GetTitlePublicKeyRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<GetTitlePublicKeyResult>>() {
+                public PlayFabResult<GetTitlePublicKeyResult> call() throws Exception {
+                    return PlayFabClientAPI.privateGetTitlePublicKeyAsync(PlayFabClientInstanceAPI.this, request);
+                }
+            });
+        }
+
+        /**
+         * Gets the current status of an existing trade.
+         * @param request GetTradeStatusRequest
+         * @return Running future that will complete with GetTradeStatusResponse
+         */
+        public PlayFabFuture<PlayFabResult<GetTradeStatusResponse>> GetTradeStatus(final GetTradeStatusRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<GetTradeStatusResponse>>() {
+                public PlayFabResult<GetTradeStatusResponse> call() throws Exception {
+                    return PlayFabClientAPI.privateGetTradeStatusAsync(PlayFabClientInstanceAPI.this, request);
+                }
+            });
+        }
+
+        /**
+         * Retrieves the title-specific custom data for the user which is readable and writable by the client
+         * @param request GetUserDataRequest
+         * @return Running future that will complete with GetUserDataResult
+         */
+        public PlayFabFuture<PlayFabResult<GetUserDataResult>> GetUserData(final GetUserDataRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<GetUserDataResult>>() {
+                public PlayFabResult<GetUserDataResult> call() throws Exception {
+                    return PlayFabClientAPI.privateGetUserDataAsync(PlayFabClientInstanceAPI.this, request);
+                }
+            });
+        }
+
+        /**
+         * Retrieves the user's current inventory of virtual goods
+         * @param request GetUserInventoryRequest
+         * @return Running future that will complete with GetUserInventoryResult
+         */
+        public PlayFabFuture<PlayFabResult<GetUserInventoryResult>> GetUserInventory(final GetUserInventoryRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<GetUserInventoryResult>>() {
+                public PlayFabResult<GetUserInventoryResult> call() throws Exception {
+                    return PlayFabClientAPI.privateGetUserInventoryAsync(PlayFabClientInstanceAPI.this, request);
+                }
+            });
+        }
+
+        /**
+         * Retrieves the publisher-specific custom data for the user which is readable and writable by the client
+         * @param request GetUserDataRequest
+         * @return Running future that will complete with GetUserDataResult
+         */
+        public PlayFabFuture<PlayFabResult<GetUserDataResult>> GetUserPublisherData(final GetUserDataRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<GetUserDataResult>>() {
+                public PlayFabResult<GetUserDataResult> call() throws Exception {
+                    return PlayFabClientAPI.privateGetUserPublisherDataAsync(PlayFabClientInstanceAPI.this, request);
+                }
+            });
+        }
+
+        /**
+         * Retrieves the publisher-specific custom data for the user which can only be read by the client
+         * @param request GetUserDataRequest
+         * @return Running future that will complete with GetUserDataResult
+         */
+        public PlayFabFuture<PlayFabResult<GetUserDataResult>> GetUserPublisherReadOnlyData(final GetUserDataRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<GetUserDataResult>>() {
+                public PlayFabResult<GetUserDataResult> call() throws Exception {
+                    return PlayFabClientAPI.privateGetUserPublisherReadOnlyDataAsync(PlayFabClientInstanceAPI.this, request);
+                }
+            });
+        }
+
+        /**
+         * Retrieves the title-specific custom data for the user which can only be read by the client
+         * @param request GetUserDataRequest
+         * @return Running future that will complete with GetUserDataResult
+         */
+        public PlayFabFuture<PlayFabResult<GetUserDataResult>> GetUserReadOnlyData(final GetUserDataRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<GetUserDataResult>>() {
+                public PlayFabResult<GetUserDataResult> call() throws Exception {
+                    return PlayFabClientAPI.privateGetUserReadOnlyDataAsync(PlayFabClientInstanceAPI.this, request);
+                }
+            });
+        }
+
+        /**
+         * Grants the specified character type to the user. CharacterIds are not globally unique; characterId must be evaluated
+         * with the parent PlayFabId to guarantee uniqueness.
+         * @param request GrantCharacterToUserRequest
+         * @return Running future that will complete with GrantCharacterToUserResult
+         */
+        public PlayFabFuture<PlayFabResult<GrantCharacterToUserResult>> GrantCharacterToUser(final GrantCharacterToUserRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<GrantCharacterToUserResult>>() {
+                public PlayFabResult<GrantCharacterToUserResult> call() throws Exception {
+                    return PlayFabClientAPI.privateGrantCharacterToUserAsync(PlayFabClientInstanceAPI.this, request);
+                }
+            });
+        }
+
+        /**
+         * Links the Android device identifier to the user's PlayFab account
+         * @param request LinkAndroidDeviceIDRequest
+         * @return Running future that will complete with LinkAndroidDeviceIDResult
+         */
+        public PlayFabFuture<PlayFabResult<LinkAndroidDeviceIDResult>> LinkAndroidDeviceID(final LinkAndroidDeviceIDRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<LinkAndroidDeviceIDResult>>() {
+                public PlayFabResult<LinkAndroidDeviceIDResult> call() throws Exception {
+                    return PlayFabClientAPI.privateLinkAndroidDeviceIDAsync(PlayFabClientInstanceAPI.this, request);
+                }
+            });
+        }
+
+        /**
+         * Links the Apple account associated with the token to the user's PlayFab account.
+         * @param request LinkAppleRequest
+         * @return Running future that will complete with EmptyResult
+         */
+        public PlayFabFuture<PlayFabResult<EmptyResult>> LinkApple(final LinkAppleRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<EmptyResult>>() {
+                public PlayFabResult<EmptyResult> call() throws Exception {
+                    return PlayFabClientAPI.privateLinkAppleAsync(PlayFabClientInstanceAPI.this, request);
+                }
+            });
+        }
+
+        /**
+         * Links the custom identifier, generated by the title, to the user's PlayFab account
+         * @param request LinkCustomIDRequest
+         * @return Running future that will complete with LinkCustomIDResult
+         */
+        public PlayFabFuture<PlayFabResult<LinkCustomIDResult>> LinkCustomID(final LinkCustomIDRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<LinkCustomIDResult>>() {
+                public PlayFabResult<LinkCustomIDResult> call() throws Exception {
+                    return PlayFabClientAPI.privateLinkCustomIDAsync(PlayFabClientInstanceAPI.this, request);
+                }
+            });
+        }
+
+        /**
+         * Links the Facebook account associated with the provided Facebook access token to the user's PlayFab account
+         * @param request LinkFacebookAccountRequest
+         * @return Running future that will complete with LinkFacebookAccountResult
+         */
+        public PlayFabFuture<PlayFabResult<LinkFacebookAccountResult>> LinkFacebookAccount(final LinkFacebookAccountRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<LinkFacebookAccountResult>>() {
+                public PlayFabResult<LinkFacebookAccountResult> call() throws Exception {
+                    return PlayFabClientAPI.privateLinkFacebookAccountAsync(PlayFabClientInstanceAPI.this, request);
+                }
+            });
+        }
+
+        /**
+         * Links the Facebook Instant Games Id to the user's PlayFab account
+         * @param request LinkFacebookInstantGamesIdRequest
+         * @return Running future that will complete with LinkFacebookInstantGamesIdResult
+         */
+        public PlayFabFuture<PlayFabResult<LinkFacebookInstantGamesIdResult>> LinkFacebookInstantGamesId(final LinkFacebookInstantGamesIdRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<LinkFacebookInstantGamesIdResult>>() {
+                public PlayFabResult<LinkFacebookInstantGamesIdResult> call() throws Exception {
+                    return PlayFabClientAPI.privateLinkFacebookInstantGamesIdAsync(PlayFabClientInstanceAPI.this, request);
+                }
+            });
+        }
+
+        /**
+         * Links the Game Center account associated with the provided Game Center ID to the user's PlayFab account. Logging in with
+         * a Game Center ID is insecure if you do not include the optional PublicKeyUrl, Salt, Signature, and Timestamp parameters
+         * in this request. It is recommended you require these parameters on all Game Center calls by going to the Apple Add-ons
+         * page in the PlayFab Game Manager and enabling the 'Require secure authentication only for this app' option.
+         * @param request LinkGameCenterAccountRequest
+         * @return Running future that will complete with LinkGameCenterAccountResult
+         */
+        public PlayFabFuture<PlayFabResult<LinkGameCenterAccountResult>> LinkGameCenterAccount(final LinkGameCenterAccountRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<LinkGameCenterAccountResult>>() {
+                public PlayFabResult<LinkGameCenterAccountResult> call() throws Exception {
+                    return PlayFabClientAPI.privateLinkGameCenterAccountAsync(PlayFabClientInstanceAPI.this, request);
+                }
+            });
+        }
+
+        /**
+         * Links the currently signed-in user account to their Google account, using their Google account credentials
+         * @param request LinkGoogleAccountRequest
+         * @return Running future that will complete with LinkGoogleAccountResult
+         */
+        public PlayFabFuture<PlayFabResult<LinkGoogleAccountResult>> LinkGoogleAccount(final LinkGoogleAccountRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<LinkGoogleAccountResult>>() {
+                public PlayFabResult<LinkGoogleAccountResult> call() throws Exception {
+                    return PlayFabClientAPI.privateLinkGoogleAccountAsync(PlayFabClientInstanceAPI.this, request);
+                }
+            });
+        }
+
+        /**
+         * Links the vendor-specific iOS device identifier to the user's PlayFab account
+         * @param request LinkIOSDeviceIDRequest
+         * @return Running future that will complete with LinkIOSDeviceIDResult
+         */
+        public PlayFabFuture<PlayFabResult<LinkIOSDeviceIDResult>> LinkIOSDeviceID(final LinkIOSDeviceIDRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<LinkIOSDeviceIDResult>>() {
+                public PlayFabResult<LinkIOSDeviceIDResult> call() throws Exception {
+                    return PlayFabClientAPI.privateLinkIOSDeviceIDAsync(PlayFabClientInstanceAPI.this, request);
+                }
+            });
+        }
+
+        /**
+         * Links the Kongregate identifier to the user's PlayFab account
+         * @param request LinkKongregateAccountRequest
+         * @return Running future that will complete with LinkKongregateAccountResult
+         */
+        public PlayFabFuture<PlayFabResult<LinkKongregateAccountResult>> LinkKongregate(final LinkKongregateAccountRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<LinkKongregateAccountResult>>() {
+                public PlayFabResult<LinkKongregateAccountResult> call() throws Exception {
+                    return PlayFabClientAPI.privateLinkKongregateAsync(PlayFabClientInstanceAPI.this, request);
+                }
+            });
+        }
+
+        /**
+         * Links the Nintendo account associated with the token to the user's PlayFab account.
+         * @param request LinkNintendoServiceAccountRequest
+         * @return Running future that will complete with EmptyResult
+         */
+        public PlayFabFuture<PlayFabResult<EmptyResult>> LinkNintendoServiceAccount(final LinkNintendoServiceAccountRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<EmptyResult>>() {
+                public PlayFabResult<EmptyResult> call() throws Exception {
+                    return PlayFabClientAPI.privateLinkNintendoServiceAccountAsync(PlayFabClientInstanceAPI.this, request);
+                }
+            });
+        }
+
+        /**
+         * Links the NintendoSwitchDeviceId to the user's PlayFab account
+         * @param request LinkNintendoSwitchDeviceIdRequest
+         * @return Running future that will complete with LinkNintendoSwitchDeviceIdResult
+         */
+        public PlayFabFuture<PlayFabResult<LinkNintendoSwitchDeviceIdResult>> LinkNintendoSwitchDeviceId(final LinkNintendoSwitchDeviceIdRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<LinkNintendoSwitchDeviceIdResult>>() {
+                public PlayFabResult<LinkNintendoSwitchDeviceIdResult> call() throws Exception {
+                    return PlayFabClientAPI.privateLinkNintendoSwitchDeviceIdAsync(PlayFabClientInstanceAPI.this, request);
+                }
+            });
+        }
+
+        /**
+         * Links an OpenID Connect account to a user's PlayFab account, based on an existing relationship between a title and an
+         * Open ID Connect provider and the OpenId Connect JWT from that provider.
+         * @param request LinkOpenIdConnectRequest
+         * @return Running future that will complete with EmptyResult
+         */
+        public PlayFabFuture<PlayFabResult<EmptyResult>> LinkOpenIdConnect(final LinkOpenIdConnectRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<EmptyResult>>() {
+                public PlayFabResult<EmptyResult> call() throws Exception {
+                    return PlayFabClientAPI.privateLinkOpenIdConnectAsync(PlayFabClientInstanceAPI.this, request);
+                }
+            });
+        }
+
+        /**
+         * Links the PlayStation Network account associated with the provided access code to the user's PlayFab account
+         * @param request LinkPSNAccountRequest
+         * @return Running future that will complete with LinkPSNAccountResult
+         */
+        public PlayFabFuture<PlayFabResult<LinkPSNAccountResult>> LinkPSNAccount(final LinkPSNAccountRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<LinkPSNAccountResult>>() {
+                public PlayFabResult<LinkPSNAccountResult> call() throws Exception {
+                    return PlayFabClientAPI.privateLinkPSNAccountAsync(PlayFabClientInstanceAPI.this, request);
+                }
+            });
+        }
+
+        /**
+         * Links the Steam account associated with the provided Steam authentication ticket to the user's PlayFab account
+         * @param request LinkSteamAccountRequest
+         * @return Running future that will complete with LinkSteamAccountResult
+         */
+        public PlayFabFuture<PlayFabResult<LinkSteamAccountResult>> LinkSteamAccount(final LinkSteamAccountRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<LinkSteamAccountResult>>() {
+                public PlayFabResult<LinkSteamAccountResult> call() throws Exception {
+                    return PlayFabClientAPI.privateLinkSteamAccountAsync(PlayFabClientInstanceAPI.this, request);
+                }
+            });
+        }
+
+        /**
+         * Links the Twitch account associated with the token to the user's PlayFab account.
+         * @param request LinkTwitchAccountRequest
+         * @return Running future that will complete with LinkTwitchAccountResult
+         */
+        public PlayFabFuture<PlayFabResult<LinkTwitchAccountResult>> LinkTwitch(final LinkTwitchAccountRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<LinkTwitchAccountResult>>() {
+                public PlayFabResult<LinkTwitchAccountResult> call() throws Exception {
+                    return PlayFabClientAPI.privateLinkTwitchAsync(PlayFabClientInstanceAPI.this, request);
+                }
+            });
+        }
+
+        /**
+         * Links the Xbox Live account associated with the provided access code to the user's PlayFab account
+         * @param request LinkXboxAccountRequest
+         * @return Running future that will complete with LinkXboxAccountResult
+         */
+        public PlayFabFuture<PlayFabResult<LinkXboxAccountResult>> LinkXboxAccount(final LinkXboxAccountRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<LinkXboxAccountResult>>() {
+                public PlayFabResult<LinkXboxAccountResult> call() throws Exception {
+                    return PlayFabClientAPI.privateLinkXboxAccountAsync(PlayFabClientInstanceAPI.this, request);
+                }
+            });
+        }
+
+        /**
+         * Signs the user in using the Android device identifier, returning a session identifier that can subsequently be used for
+         * API calls which require an authenticated user
+         * @param request LoginWithAndroidDeviceIDRequest
+         * @return Running future that will complete with LoginResult
+         */
+        public PlayFabFuture<PlayFabResult<LoginResult>> LoginWithAndroidDeviceID(final LoginWithAndroidDeviceIDRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<LoginResult>>() {
+                public PlayFabResult<LoginResult> call() throws Exception {
+                    return PlayFabClientAPI.privateLoginWithAndroidDeviceIDAsync(PlayFabClientInstanceAPI.this, request);
+                }
+            });
+        }
+
+        /**
+         * Signs in the user with a Sign in with Apple identity token.
+         * @param request LoginWithAppleRequest
+         * @return Running future that will complete with LoginResult
+         */
+        public PlayFabFuture<PlayFabResult<LoginResult>> LoginWithApple(final LoginWithAppleRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<LoginResult>>() {
+                public PlayFabResult<LoginResult> call() throws Exception {
+                    return PlayFabClientAPI.privateLoginWithAppleAsync(PlayFabClientInstanceAPI.this, request);
+                }
+            });
+        }
+
+        /**
+         * Signs the user in using a custom unique identifier generated by the title, returning a session identifier that can
+         * subsequently be used for API calls which require an authenticated user
+         * @param request LoginWithCustomIDRequest
+         * @return Running future that will complete with LoginResult
+         */
+        public PlayFabFuture<PlayFabResult<LoginResult>> LoginWithCustomID(final LoginWithCustomIDRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<LoginResult>>() {
+                public PlayFabResult<LoginResult> call() throws Exception {
+                    return PlayFabClientAPI.privateLoginWithCustomIDAsync(PlayFabClientInstanceAPI.this, request);
+                }
+            });
+        }
+
+        /**
+         * Signs the user into the PlayFab account, returning a session identifier that can subsequently be used for API calls
+         * which require an authenticated user. Unlike most other login API calls, LoginWithEmailAddress does not permit the
+         * creation of new accounts via the CreateAccountFlag. Email addresses may be used to create accounts via
+         * RegisterPlayFabUser.
+         * @param request LoginWithEmailAddressRequest
+         * @return Running future that will complete with LoginResult
+         */
+        public PlayFabFuture<PlayFabResult<LoginResult>> LoginWithEmailAddress(final LoginWithEmailAddressRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<LoginResult>>() {
+                public PlayFabResult<LoginResult> call() throws Exception {
+                    return PlayFabClientAPI.privateLoginWithEmailAddressAsync(PlayFabClientInstanceAPI.this, request);
+                }
+            });
+        }
+
+        /**
+         * Signs the user in using a Facebook access token, returning a session identifier that can subsequently be used for API
+         * calls which require an authenticated user
+         * @param request LoginWithFacebookRequest
+         * @return Running future that will complete with LoginResult
+         */
+        public PlayFabFuture<PlayFabResult<LoginResult>> LoginWithFacebook(final LoginWithFacebookRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<LoginResult>>() {
+                public PlayFabResult<LoginResult> call() throws Exception {
+                    return PlayFabClientAPI.privateLoginWithFacebookAsync(PlayFabClientInstanceAPI.this, request);
+                }
+            });
+        }
+
+        /**
+         * Signs the user in using a Facebook Instant Games ID, returning a session identifier that can subsequently be used for
+         * API calls which require an authenticated user. Requires Facebook Instant Games to be configured.
+         * @param request LoginWithFacebookInstantGamesIdRequest
+         * @return Running future that will complete with LoginResult
+         */
+        public PlayFabFuture<PlayFabResult<LoginResult>> LoginWithFacebookInstantGamesId(final LoginWithFacebookInstantGamesIdRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<LoginResult>>() {
+                public PlayFabResult<LoginResult> call() throws Exception {
+                    return PlayFabClientAPI.privateLoginWithFacebookInstantGamesIdAsync(PlayFabClientInstanceAPI.this, request);
+                }
+            });
+        }
+
+        /**
+         * Signs the user in using an iOS Game Center player identifier, returning a session identifier that can subsequently be
+         * used for API calls which require an authenticated user. Logging in with a Game Center ID is insecure if you do not
+         * include the optional PublicKeyUrl, Salt, Signature, and Timestamp parameters in this request. It is recommended you
+         * require these parameters on all Game Center calls by going to the Apple Add-ons page in the PlayFab Game Manager and
+         * enabling the 'Require secure authentication only for this app' option.
+         * @param request LoginWithGameCenterRequest
+         * @return Running future that will complete with LoginResult
+         */
+        public PlayFabFuture<PlayFabResult<LoginResult>> LoginWithGameCenter(final LoginWithGameCenterRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<LoginResult>>() {
+                public PlayFabResult<LoginResult> call() throws Exception {
+                    return PlayFabClientAPI.privateLoginWithGameCenterAsync(PlayFabClientInstanceAPI.this, request);
+                }
+            });
+        }
+
+        /**
+         * Signs the user in using their Google account credentials
+         * @param request LoginWithGoogleAccountRequest
+         * @return Running future that will complete with LoginResult
+         */
+        public PlayFabFuture<PlayFabResult<LoginResult>> LoginWithGoogleAccount(final LoginWithGoogleAccountRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<LoginResult>>() {
+                public PlayFabResult<LoginResult> call() throws Exception {
+                    return PlayFabClientAPI.privateLoginWithGoogleAccountAsync(PlayFabClientInstanceAPI.this, request);
+                }
+            });
+        }
+
+        /**
+         * Signs the user in using the vendor-specific iOS device identifier, returning a session identifier that can subsequently
+         * be used for API calls which require an authenticated user
+         * @param request LoginWithIOSDeviceIDRequest
+         * @return Running future that will complete with LoginResult
+         */
+        public PlayFabFuture<PlayFabResult<LoginResult>> LoginWithIOSDeviceID(final LoginWithIOSDeviceIDRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<LoginResult>>() {
+                public PlayFabResult<LoginResult> call() throws Exception {
+                    return PlayFabClientAPI.privateLoginWithIOSDeviceIDAsync(PlayFabClientInstanceAPI.this, request);
+                }
+            });
+        }
+
+        /**
+         * Signs the user in using a Kongregate player account.
+         * @param request LoginWithKongregateRequest
+         * @return Running future that will complete with LoginResult
+         */
+        public PlayFabFuture<PlayFabResult<LoginResult>> LoginWithKongregate(final LoginWithKongregateRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<LoginResult>>() {
+                public PlayFabResult<LoginResult> call() throws Exception {
+                    return PlayFabClientAPI.privateLoginWithKongregateAsync(PlayFabClientInstanceAPI.this, request);
+                }
+            });
+        }
+
+        /**
+         * Signs in the user with a Nintendo service account token.
+         * @param request LoginWithNintendoServiceAccountRequest
+         * @return Running future that will complete with LoginResult
+         */
+        public PlayFabFuture<PlayFabResult<LoginResult>> LoginWithNintendoServiceAccount(final LoginWithNintendoServiceAccountRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<LoginResult>>() {
+                public PlayFabResult<LoginResult> call() throws Exception {
+                    return PlayFabClientAPI.privateLoginWithNintendoServiceAccountAsync(PlayFabClientInstanceAPI.this, request);
+                }
+            });
+        }
+
+        /**
+         * Signs the user in using a Nintendo Switch Device ID, returning a session identifier that can subsequently be used for
+         * API calls which require an authenticated user
+         * @param request LoginWithNintendoSwitchDeviceIdRequest
+         * @return Running future that will complete with LoginResult
+         */
+        public PlayFabFuture<PlayFabResult<LoginResult>> LoginWithNintendoSwitchDeviceId(final LoginWithNintendoSwitchDeviceIdRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<LoginResult>>() {
+                public PlayFabResult<LoginResult> call() throws Exception {
+                    return PlayFabClientAPI.privateLoginWithNintendoSwitchDeviceIdAsync(PlayFabClientInstanceAPI.this, request);
+                }
+            });
+        }
+
+        /**
+         * Logs in a user with an Open ID Connect JWT created by an existing relationship between a title and an Open ID Connect
+         * provider.
+         * @param request LoginWithOpenIdConnectRequest
+         * @return Running future that will complete with LoginResult
+         */
+        public PlayFabFuture<PlayFabResult<LoginResult>> LoginWithOpenIdConnect(final LoginWithOpenIdConnectRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<LoginResult>>() {
+                public PlayFabResult<LoginResult> call() throws Exception {
+                    return PlayFabClientAPI.privateLoginWithOpenIdConnectAsync(PlayFabClientInstanceAPI.this, request);
+                }
+            });
+        }
+
+        /**
+         * Signs the user into the PlayFab account, returning a session identifier that can subsequently be used for API calls
+         * which require an authenticated user. Unlike most other login API calls, LoginWithPlayFab does not permit the creation of
+         * new accounts via the CreateAccountFlag. Username/Password credentials may be used to create accounts via
+         * RegisterPlayFabUser, or added to existing accounts using AddUsernamePassword.
+         * @param request LoginWithPlayFabRequest
+         * @return Running future that will complete with LoginResult
+         */
+        public PlayFabFuture<PlayFabResult<LoginResult>> LoginWithPlayFab(final LoginWithPlayFabRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<LoginResult>>() {
+                public PlayFabResult<LoginResult> call() throws Exception {
+                    return PlayFabClientAPI.privateLoginWithPlayFabAsync(PlayFabClientInstanceAPI.this, request);
+                }
+            });
+        }
+
+        /**
+         * Signs the user in using a PlayStation Network authentication code, returning a session identifier that can subsequently
+         * be used for API calls which require an authenticated user
+         * @param request LoginWithPSNRequest
+         * @return Running future that will complete with LoginResult
+         */
+        public PlayFabFuture<PlayFabResult<LoginResult>> LoginWithPSN(final LoginWithPSNRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<LoginResult>>() {
+                public PlayFabResult<LoginResult> call() throws Exception {
+                    return PlayFabClientAPI.privateLoginWithPSNAsync(PlayFabClientInstanceAPI.this, request);
+                }
+            });
+        }
+
+        /**
+         * Signs the user in using a Steam authentication ticket, returning a session identifier that can subsequently be used for
+         * API calls which require an authenticated user
+         * @param request LoginWithSteamRequest
+         * @return Running future that will complete with LoginResult
+         */
+        public PlayFabFuture<PlayFabResult<LoginResult>> LoginWithSteam(final LoginWithSteamRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<LoginResult>>() {
+                public PlayFabResult<LoginResult> call() throws Exception {
+                    return PlayFabClientAPI.privateLoginWithSteamAsync(PlayFabClientInstanceAPI.this, request);
+                }
+            });
+        }
+
+        /**
+         * Signs the user in using a Twitch access token.
+         * @param request LoginWithTwitchRequest
+         * @return Running future that will complete with LoginResult
+         */
+        public PlayFabFuture<PlayFabResult<LoginResult>> LoginWithTwitch(final LoginWithTwitchRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<LoginResult>>() {
+                public PlayFabResult<LoginResult> call() throws Exception {
+                    return PlayFabClientAPI.privateLoginWithTwitchAsync(PlayFabClientInstanceAPI.this, request);
+                }
+            });
+        }
+
+        /**
+         * Signs the user in using a Xbox Live Token, returning a session identifier that can subsequently be used for API calls
+         * which require an authenticated user
+         * @param request LoginWithXboxRequest
+         * @return Running future that will complete with LoginResult
+         */
+        public PlayFabFuture<PlayFabResult<LoginResult>> LoginWithXbox(final LoginWithXboxRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<LoginResult>>() {
+                public PlayFabResult<LoginResult> call() throws Exception {
+                    return PlayFabClientAPI.privateLoginWithXboxAsync(PlayFabClientInstanceAPI.this, request);
+                }
+            });
+        }
+
+        /**
+         * Attempts to locate a game session matching the given parameters. If the goal is to match the player into a specific
+         * active session, only the LobbyId is required. Otherwise, the BuildVersion, GameMode, and Region are all required
+         * parameters. Note that parameters specified in the search are required (they are not weighting factors). If a slot is
+         * found in a server instance matching the parameters, the slot will be assigned to that player, removing it from the
+         * availabe set. In that case, the information on the game session will be returned, otherwise the Status returned will be
+         * GameNotFound.
+         * @param request MatchmakeRequest
+         * @return Running future that will complete with MatchmakeResult
+         */
+        public PlayFabFuture<PlayFabResult<MatchmakeResult>> Matchmake(final MatchmakeRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<MatchmakeResult>>() {
+                public PlayFabResult<MatchmakeResult> call() throws Exception {
+                    return PlayFabClientAPI.privateMatchmakeAsync(PlayFabClientInstanceAPI.this, request);
+                }
+            });
+        }
+
+        /**
+         * Opens a new outstanding trade. Note that a given item instance may only be in one open trade at a time.
+         * @param request OpenTradeRequest
+         * @return Running future that will complete with OpenTradeResponse
+         */
+        public PlayFabFuture<PlayFabResult<OpenTradeResponse>> OpenTrade(final OpenTradeRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<OpenTradeResponse>>() {
+                public PlayFabResult<OpenTradeResponse> call() throws Exception {
+                    return PlayFabClientAPI.privateOpenTradeAsync(PlayFabClientInstanceAPI.this, request);
+                }
+            });
+        }
+
+        /**
+         * Selects a payment option for purchase order created via StartPurchase
+         * @param request PayForPurchaseRequest
+         * @return Running future that will complete with PayForPurchaseResult
+         */
+        public PlayFabFuture<PlayFabResult<PayForPurchaseResult>> PayForPurchase(final PayForPurchaseRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<PayForPurchaseResult>>() {
+                public PlayFabResult<PayForPurchaseResult> call() throws Exception {
+                    return PlayFabClientAPI.privatePayForPurchaseAsync(PlayFabClientInstanceAPI.this, request);
+                }
+            });
+        }
+
+        /**
+         * Buys a single item with virtual currency. You must specify both the virtual currency to use to purchase, as well as what
+         * the client believes the price to be. This lets the server fail the purchase if the price has changed.
+         * @param request PurchaseItemRequest
+         * @return Running future that will complete with PurchaseItemResult
+         */
+        public PlayFabFuture<PlayFabResult<PurchaseItemResult>> PurchaseItem(final PurchaseItemRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<PurchaseItemResult>>() {
+                public PlayFabResult<PurchaseItemResult> call() throws Exception {
+                    return PlayFabClientAPI.privatePurchaseItemAsync(PlayFabClientInstanceAPI.this, request);
+                }
+            });
+        }
+
+        /**
+         * Adds the virtual goods associated with the coupon to the user's inventory. Coupons can be generated via the
+         * Economy-&gt;Catalogs tab in the PlayFab Game Manager.
+         * @param request RedeemCouponRequest
+         * @return Running future that will complete with RedeemCouponResult
+         */
+        public PlayFabFuture<PlayFabResult<RedeemCouponResult>> RedeemCoupon(final RedeemCouponRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<RedeemCouponResult>>() {
+                public PlayFabResult<RedeemCouponResult> call() throws Exception {
+                    return PlayFabClientAPI.privateRedeemCouponAsync(PlayFabClientInstanceAPI.this, request);
+                }
+            });
+        }
+
+        /**
+         * Uses the supplied OAuth code to refresh the internally cached player PSN auth token
+         * @param request RefreshPSNAuthTokenRequest
+         * @return Running future that will complete with EmptyResponse
+         */
+        public PlayFabFuture<PlayFabResult<EmptyResponse>> RefreshPSNAuthToken(final RefreshPSNAuthTokenRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<EmptyResponse>>() {
+                public PlayFabResult<EmptyResponse> call() throws Exception {
+                    return PlayFabClientAPI.privateRefreshPSNAuthTokenAsync(PlayFabClientInstanceAPI.this, request);
+                }
+            });
+        }
+
+        /**
+         * Registers the iOS device to receive push notifications
+         * @param request RegisterForIOSPushNotificationRequest
+         * @return Running future that will complete with RegisterForIOSPushNotificationResult
+         */
+        public PlayFabFuture<PlayFabResult<RegisterForIOSPushNotificationResult>> RegisterForIOSPushNotification(final RegisterForIOSPushNotificationRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<RegisterForIOSPushNotificationResult>>() {
+                public PlayFabResult<RegisterForIOSPushNotificationResult> call() throws Exception {
+                    return PlayFabClientAPI.privateRegisterForIOSPushNotificationAsync(PlayFabClientInstanceAPI.this, request);
+                }
+            });
+        }
+
+        /**
+         * Registers a new Playfab user account, returning a session identifier that can subsequently be used for API calls which
+         * require an authenticated user. You must supply either a username or an email address.
+         * @param request RegisterPlayFabUserRequest
+         * @return Running future that will complete with RegisterPlayFabUserResult
+         */
+        public PlayFabFuture<PlayFabResult<RegisterPlayFabUserResult>> RegisterPlayFabUser(final RegisterPlayFabUserRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<RegisterPlayFabUserResult>>() {
+                public PlayFabResult<RegisterPlayFabUserResult> call() throws Exception {
+                    return PlayFabClientAPI.privateRegisterPlayFabUserAsync(PlayFabClientInstanceAPI.this, request);
+                }
+            });
+        }
+
+        /**
+         * Removes a contact email from the player's profile.
+         * @param request RemoveContactEmailRequest
+         * @return Running future that will complete with RemoveContactEmailResult
+         */
+        public PlayFabFuture<PlayFabResult<RemoveContactEmailResult>> RemoveContactEmail(final RemoveContactEmailRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<RemoveContactEmailResult>>() {
+                public PlayFabResult<RemoveContactEmailResult> call() throws Exception {
+                    return PlayFabClientAPI.privateRemoveContactEmailAsync(PlayFabClientInstanceAPI.this, request);
+                }
+            });
+        }
+
+        /**
+         * Removes a specified user from the friend list of the local user
+         * @param request RemoveFriendRequest
+         * @return Running future that will complete with RemoveFriendResult
+         */
+        public PlayFabFuture<PlayFabResult<RemoveFriendResult>> RemoveFriend(final RemoveFriendRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<RemoveFriendResult>>() {
+                public PlayFabResult<RemoveFriendResult> call() throws Exception {
+                    return PlayFabClientAPI.privateRemoveFriendAsync(PlayFabClientInstanceAPI.this, request);
+                }
+            });
+        }
+
+        /**
+         * Removes the specified generic service identifier from the player's PlayFab account.
+         * @param request RemoveGenericIDRequest
+         * @return Running future that will complete with RemoveGenericIDResult
+         */
+        public PlayFabFuture<PlayFabResult<RemoveGenericIDResult>> RemoveGenericID(final RemoveGenericIDRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<RemoveGenericIDResult>>() {
+                public PlayFabResult<RemoveGenericIDResult> call() throws Exception {
+                    return PlayFabClientAPI.privateRemoveGenericIDAsync(PlayFabClientInstanceAPI.this, request);
+                }
+            });
+        }
+
+        /**
+         * Removes users from the set of those able to update the shared data and the set of users in the group. Only users in the
+         * group can remove members. If as a result of the call, zero users remain with access, the group and its associated data
+         * will be deleted. Shared Groups are designed for sharing data between a very small number of players, please see our
+         * guide: https://docs.microsoft.com/gaming/playfab/features/social/groups/using-shared-group-data
+         * @param request RemoveSharedGroupMembersRequest
+         * @return Running future that will complete with RemoveSharedGroupMembersResult
+         */
+        public PlayFabFuture<PlayFabResult<RemoveSharedGroupMembersResult>> RemoveSharedGroupMembers(final RemoveSharedGroupMembersRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<RemoveSharedGroupMembersResult>>() {
+                public PlayFabResult<RemoveSharedGroupMembersResult> call() throws Exception {
+                    return PlayFabClientAPI.privateRemoveSharedGroupMembersAsync(PlayFabClientInstanceAPI.this, request);
+                }
+            });
+        }
+
+        /**
+         * Report player's ad activity
+         * @param request ReportAdActivityRequest
+         * @return Running future that will complete with ReportAdActivityResult
+         */
+        public PlayFabFuture<PlayFabResult<ReportAdActivityResult>> ReportAdActivity(final ReportAdActivityRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<ReportAdActivityResult>>() {
+                public PlayFabResult<ReportAdActivityResult> call() throws Exception {
+                    return PlayFabClientAPI.privateReportAdActivityAsync(PlayFabClientInstanceAPI.this, request);
+                }
+            });
+        }
+
+        /**
+         * Write a PlayStream event to describe the provided player device information. This API method is not designed to be
+         * called directly by developers. Each PlayFab client SDK will eventually report this information automatically.
+         * @param request DeviceInfoRequest
+         * @return Running future that will complete with EmptyResponse
+         */
+        public PlayFabFuture<PlayFabResult<EmptyResponse>> ReportDeviceInfo(final DeviceInfoRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<EmptyResponse>>() {
+                public PlayFabResult<EmptyResponse> call() throws Exception {
+                    return PlayFabClientAPI.privateReportDeviceInfoAsync(PlayFabClientInstanceAPI.this, request);
+                }
+            });
+        }
+
+        /**
+         * Submit a report for another player (due to bad bahavior, etc.), so that customer service representatives for the title
+         * can take action concerning potentially toxic players.
+         * @param request ReportPlayerClientRequest
+         * @return Running future that will complete with ReportPlayerClientResult
+         */
+        public PlayFabFuture<PlayFabResult<ReportPlayerClientResult>> ReportPlayer(final ReportPlayerClientRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<ReportPlayerClientResult>>() {
+                public PlayFabResult<ReportPlayerClientResult> call() throws Exception {
+                    return PlayFabClientAPI.privateReportPlayerAsync(PlayFabClientInstanceAPI.this, request);
+                }
+            });
+        }
+
+        /**
+         * Restores all in-app purchases based on the given restore receipt
+         * @param request RestoreIOSPurchasesRequest
+         * @return Running future that will complete with RestoreIOSPurchasesResult
+         */
+        public PlayFabFuture<PlayFabResult<RestoreIOSPurchasesResult>> RestoreIOSPurchases(final RestoreIOSPurchasesRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<RestoreIOSPurchasesResult>>() {
+                public PlayFabResult<RestoreIOSPurchasesResult> call() throws Exception {
+                    return PlayFabClientAPI.privateRestoreIOSPurchasesAsync(PlayFabClientInstanceAPI.this, request);
+                }
+            });
+        }
+
+        /**
+         * Reward player's ad activity
+         * @param request RewardAdActivityRequest
+         * @return Running future that will complete with RewardAdActivityResult
+         */
+        public PlayFabFuture<PlayFabResult<RewardAdActivityResult>> RewardAdActivity(final RewardAdActivityRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<RewardAdActivityResult>>() {
+                public PlayFabResult<RewardAdActivityResult> call() throws Exception {
+                    return PlayFabClientAPI.privateRewardAdActivityAsync(PlayFabClientInstanceAPI.this, request);
+                }
+            });
+        }
+
+        /**
+         * Forces an email to be sent to the registered email address for the user's account, with a link allowing the user to
+         * change the password.If an account recovery email template ID is provided, an email using the custom email template will
+         * be used.
+         * @param request SendAccountRecoveryEmailRequest
+         * @return Running future that will complete with SendAccountRecoveryEmailResult
+         */
+        public PlayFabFuture<PlayFabResult<SendAccountRecoveryEmailResult>> SendAccountRecoveryEmail(final SendAccountRecoveryEmailRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<SendAccountRecoveryEmailResult>>() {
+                public PlayFabResult<SendAccountRecoveryEmailResult> call() throws Exception {
+                    return PlayFabClientAPI.privateSendAccountRecoveryEmailAsync(PlayFabClientInstanceAPI.this, request);
+                }
+            });
+        }
+
+        /**
+         * Updates the tag list for a specified user in the friend list of the local user
+         * @param request SetFriendTagsRequest
+         * @return Running future that will complete with SetFriendTagsResult
+         */
+        public PlayFabFuture<PlayFabResult<SetFriendTagsResult>> SetFriendTags(final SetFriendTagsRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<SetFriendTagsResult>>() {
+                public PlayFabResult<SetFriendTagsResult> call() throws Exception {
+                    return PlayFabClientAPI.privateSetFriendTagsAsync(PlayFabClientInstanceAPI.this, request);
+                }
+            });
+        }
+
+        /**
+         * Sets the player's secret if it is not already set. Player secrets are used to sign API requests. To reset a player's
+         * secret use the Admin or Server API method SetPlayerSecret.
+         * @param request SetPlayerSecretRequest
+         * @return Running future that will complete with SetPlayerSecretResult
+         */
+        public PlayFabFuture<PlayFabResult<SetPlayerSecretResult>> SetPlayerSecret(final SetPlayerSecretRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<SetPlayerSecretResult>>() {
+                public PlayFabResult<SetPlayerSecretResult> call() throws Exception {
+                    return PlayFabClientAPI.privateSetPlayerSecretAsync(PlayFabClientInstanceAPI.this, request);
+                }
+            });
+        }
+
+        /**
+         * Start a new game server with a given configuration, add the current player and return the connection information.
+         * @param request StartGameRequest
+         * @return Running future that will complete with StartGameResult
+         */
+        public PlayFabFuture<PlayFabResult<StartGameResult>> StartGame(final StartGameRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<StartGameResult>>() {
+                public PlayFabResult<StartGameResult> call() throws Exception {
+                    return PlayFabClientAPI.privateStartGameAsync(PlayFabClientInstanceAPI.this, request);
+                }
+            });
+        }
+
+        /**
+         * Creates an order for a list of items from the title catalog
+         * @param request StartPurchaseRequest
+         * @return Running future that will complete with StartPurchaseResult
+         */
+        public PlayFabFuture<PlayFabResult<StartPurchaseResult>> StartPurchase(final StartPurchaseRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<StartPurchaseResult>>() {
+                public PlayFabResult<StartPurchaseResult> call() throws Exception {
+                    return PlayFabClientAPI.privateStartPurchaseAsync(PlayFabClientInstanceAPI.this, request);
+                }
+            });
+        }
+
+        /**
+         * Decrements the user's balance of the specified virtual currency by the stated amount. It is possible to make a VC
+         * balance negative with this API.
+         * @param request SubtractUserVirtualCurrencyRequest
+         * @return Running future that will complete with ModifyUserVirtualCurrencyResult
+         */
+        public PlayFabFuture<PlayFabResult<ModifyUserVirtualCurrencyResult>> SubtractUserVirtualCurrency(final SubtractUserVirtualCurrencyRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<ModifyUserVirtualCurrencyResult>>() {
+                public PlayFabResult<ModifyUserVirtualCurrencyResult> call() throws Exception {
+                    return PlayFabClientAPI.privateSubtractUserVirtualCurrencyAsync(PlayFabClientInstanceAPI.this, request);
+                }
+            });
+        }
+
+        /**
+         * Unlinks the related Android device identifier from the user's PlayFab account
+         * @param request UnlinkAndroidDeviceIDRequest
+         * @return Running future that will complete with UnlinkAndroidDeviceIDResult
+         */
+        public PlayFabFuture<PlayFabResult<UnlinkAndroidDeviceIDResult>> UnlinkAndroidDeviceID(final UnlinkAndroidDeviceIDRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<UnlinkAndroidDeviceIDResult>>() {
+                public PlayFabResult<UnlinkAndroidDeviceIDResult> call() throws Exception {
+                    return PlayFabClientAPI.privateUnlinkAndroidDeviceIDAsync(PlayFabClientInstanceAPI.this, request);
+                }
+            });
+        }
+
+        /**
+         * Unlinks the related Apple account from the user's PlayFab account.
+         * @param request UnlinkAppleRequest
+         * @return Running future that will complete with EmptyResponse
+         */
+        public PlayFabFuture<PlayFabResult<EmptyResponse>> UnlinkApple(final UnlinkAppleRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<EmptyResponse>>() {
+                public PlayFabResult<EmptyResponse> call() throws Exception {
+                    return PlayFabClientAPI.privateUnlinkAppleAsync(PlayFabClientInstanceAPI.this, request);
+                }
+            });
+        }
+
+        /**
+         * Unlinks the related custom identifier from the user's PlayFab account
+         * @param request UnlinkCustomIDRequest
+         * @return Running future that will complete with UnlinkCustomIDResult
+         */
+        public PlayFabFuture<PlayFabResult<UnlinkCustomIDResult>> UnlinkCustomID(final UnlinkCustomIDRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<UnlinkCustomIDResult>>() {
+                public PlayFabResult<UnlinkCustomIDResult> call() throws Exception {
+                    return PlayFabClientAPI.privateUnlinkCustomIDAsync(PlayFabClientInstanceAPI.this, request);
+                }
+            });
+        }
+
+        /**
+         * Unlinks the related Facebook account from the user's PlayFab account
+         * @param request UnlinkFacebookAccountRequest
+         * @return Running future that will complete with UnlinkFacebookAccountResult
+         */
+        public PlayFabFuture<PlayFabResult<UnlinkFacebookAccountResult>> UnlinkFacebookAccount(final UnlinkFacebookAccountRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<UnlinkFacebookAccountResult>>() {
+                public PlayFabResult<UnlinkFacebookAccountResult> call() throws Exception {
+                    return PlayFabClientAPI.privateUnlinkFacebookAccountAsync(PlayFabClientInstanceAPI.this, request);
+                }
+            });
+        }
+
+        /**
+         * Unlinks the related Facebook Instant Game Ids from the user's PlayFab account
+         * @param request UnlinkFacebookInstantGamesIdRequest
+         * @return Running future that will complete with UnlinkFacebookInstantGamesIdResult
+         */
+        public PlayFabFuture<PlayFabResult<UnlinkFacebookInstantGamesIdResult>> UnlinkFacebookInstantGamesId(final UnlinkFacebookInstantGamesIdRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<UnlinkFacebookInstantGamesIdResult>>() {
+                public PlayFabResult<UnlinkFacebookInstantGamesIdResult> call() throws Exception {
+                    return PlayFabClientAPI.privateUnlinkFacebookInstantGamesIdAsync(PlayFabClientInstanceAPI.this, request);
+                }
+            });
+        }
+
+        /**
+         * Unlinks the related Game Center account from the user's PlayFab account
+         * @param request UnlinkGameCenterAccountRequest
+         * @return Running future that will complete with UnlinkGameCenterAccountResult
+         */
+        public PlayFabFuture<PlayFabResult<UnlinkGameCenterAccountResult>> UnlinkGameCenterAccount(final UnlinkGameCenterAccountRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<UnlinkGameCenterAccountResult>>() {
+                public PlayFabResult<UnlinkGameCenterAccountResult> call() throws Exception {
+                    return PlayFabClientAPI.privateUnlinkGameCenterAccountAsync(PlayFabClientInstanceAPI.this, request);
+                }
+            });
+        }
+
+        /**
+         * Unlinks the related Google account from the user's PlayFab account
+         * (https://developers.google.com/android/reference/com/google/android/gms/auth/GoogleAuthUtil#public-methods).
+         * @param request UnlinkGoogleAccountRequest
+         * @return Running future that will complete with UnlinkGoogleAccountResult
+         */
+        public PlayFabFuture<PlayFabResult<UnlinkGoogleAccountResult>> UnlinkGoogleAccount(final UnlinkGoogleAccountRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<UnlinkGoogleAccountResult>>() {
+                public PlayFabResult<UnlinkGoogleAccountResult> call() throws Exception {
+                    return PlayFabClientAPI.privateUnlinkGoogleAccountAsync(PlayFabClientInstanceAPI.this, request);
+                }
+            });
+        }
+
+        /**
+         * Unlinks the related iOS device identifier from the user's PlayFab account
+         * @param request UnlinkIOSDeviceIDRequest
+         * @return Running future that will complete with UnlinkIOSDeviceIDResult
+         */
+        public PlayFabFuture<PlayFabResult<UnlinkIOSDeviceIDResult>> UnlinkIOSDeviceID(final UnlinkIOSDeviceIDRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<UnlinkIOSDeviceIDResult>>() {
+                public PlayFabResult<UnlinkIOSDeviceIDResult> call() throws Exception {
+                    return PlayFabClientAPI.privateUnlinkIOSDeviceIDAsync(PlayFabClientInstanceAPI.this, request);
+                }
+            });
+        }
+
+        /**
+         * Unlinks the related Kongregate identifier from the user's PlayFab account
+         * @param request UnlinkKongregateAccountRequest
+         * @return Running future that will complete with UnlinkKongregateAccountResult
+         */
+        public PlayFabFuture<PlayFabResult<UnlinkKongregateAccountResult>> UnlinkKongregate(final UnlinkKongregateAccountRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<UnlinkKongregateAccountResult>>() {
+                public PlayFabResult<UnlinkKongregateAccountResult> call() throws Exception {
+                    return PlayFabClientAPI.privateUnlinkKongregateAsync(PlayFabClientInstanceAPI.this, request);
+                }
+            });
+        }
+
+        /**
+         * Unlinks the related Nintendo account from the user's PlayFab account.
+         * @param request UnlinkNintendoServiceAccountRequest
+         * @return Running future that will complete with EmptyResponse
+         */
+        public PlayFabFuture<PlayFabResult<EmptyResponse>> UnlinkNintendoServiceAccount(final UnlinkNintendoServiceAccountRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<EmptyResponse>>() {
+                public PlayFabResult<EmptyResponse> call() throws Exception {
+                    return PlayFabClientAPI.privateUnlinkNintendoServiceAccountAsync(PlayFabClientInstanceAPI.this, request);
+                }
+            });
+        }
+
+        /**
+         * Unlinks the related NintendoSwitchDeviceId from the user's PlayFab account
+         * @param request UnlinkNintendoSwitchDeviceIdRequest
+         * @return Running future that will complete with UnlinkNintendoSwitchDeviceIdResult
+         */
+        public PlayFabFuture<PlayFabResult<UnlinkNintendoSwitchDeviceIdResult>> UnlinkNintendoSwitchDeviceId(final UnlinkNintendoSwitchDeviceIdRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<UnlinkNintendoSwitchDeviceIdResult>>() {
+                public PlayFabResult<UnlinkNintendoSwitchDeviceIdResult> call() throws Exception {
+                    return PlayFabClientAPI.privateUnlinkNintendoSwitchDeviceIdAsync(PlayFabClientInstanceAPI.this, request);
+                }
+            });
+        }
+
+        /**
+         * Unlinks an OpenID Connect account from a user's PlayFab account, based on the connection ID of an existing relationship
+         * between a title and an Open ID Connect provider.
+         * @param request UnlinkOpenIdConnectRequest
+         * @return Running future that will complete with EmptyResponse
+         */
+        public PlayFabFuture<PlayFabResult<EmptyResponse>> UnlinkOpenIdConnect(final UnlinkOpenIdConnectRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<EmptyResponse>>() {
+                public PlayFabResult<EmptyResponse> call() throws Exception {
+                    return PlayFabClientAPI.privateUnlinkOpenIdConnectAsync(PlayFabClientInstanceAPI.this, request);
+                }
+            });
+        }
+
+        /**
+         * Unlinks the related PSN account from the user's PlayFab account
+         * @param request UnlinkPSNAccountRequest
+         * @return Running future that will complete with UnlinkPSNAccountResult
+         */
+        public PlayFabFuture<PlayFabResult<UnlinkPSNAccountResult>> UnlinkPSNAccount(final UnlinkPSNAccountRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<UnlinkPSNAccountResult>>() {
+                public PlayFabResult<UnlinkPSNAccountResult> call() throws Exception {
+                    return PlayFabClientAPI.privateUnlinkPSNAccountAsync(PlayFabClientInstanceAPI.this, request);
+                }
+            });
+        }
+
+        /**
+         * Unlinks the related Steam account from the user's PlayFab account
+         * @param request UnlinkSteamAccountRequest
+         * @return Running future that will complete with UnlinkSteamAccountResult
+         */
+        public PlayFabFuture<PlayFabResult<UnlinkSteamAccountResult>> UnlinkSteamAccount(final UnlinkSteamAccountRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<UnlinkSteamAccountResult>>() {
+                public PlayFabResult<UnlinkSteamAccountResult> call() throws Exception {
+                    return PlayFabClientAPI.privateUnlinkSteamAccountAsync(PlayFabClientInstanceAPI.this, request);
+                }
+            });
+        }
+
+        /**
+         * Unlinks the related Twitch account from the user's PlayFab account.
+         * @param request UnlinkTwitchAccountRequest
+         * @return Running future that will complete with UnlinkTwitchAccountResult
+         */
+        public PlayFabFuture<PlayFabResult<UnlinkTwitchAccountResult>> UnlinkTwitch(final UnlinkTwitchAccountRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<UnlinkTwitchAccountResult>>() {
+                public PlayFabResult<UnlinkTwitchAccountResult> call() throws Exception {
+                    return PlayFabClientAPI.privateUnlinkTwitchAsync(PlayFabClientInstanceAPI.this, request);
+                }
+            });
+        }
+
+        /**
+         * Unlinks the related Xbox Live account from the user's PlayFab account
+         * @param request UnlinkXboxAccountRequest
+         * @return Running future that will complete with UnlinkXboxAccountResult
+         */
+        public PlayFabFuture<PlayFabResult<UnlinkXboxAccountResult>> UnlinkXboxAccount(final UnlinkXboxAccountRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<UnlinkXboxAccountResult>>() {
+                public PlayFabResult<UnlinkXboxAccountResult> call() throws Exception {
+                    return PlayFabClientAPI.privateUnlinkXboxAccountAsync(PlayFabClientInstanceAPI.this, request);
+                }
+            });
+        }
+
+        /**
+         * Opens the specified container, with the specified key (when required), and returns the contents of the opened container.
+         * If the container (and key when relevant) are consumable (RemainingUses &gt; 0), their RemainingUses will be decremented,
+         * consistent with the operation of ConsumeItem.
+         * @param request UnlockContainerInstanceRequest
+         * @return Running future that will complete with UnlockContainerItemResult
+         */
+        public PlayFabFuture<PlayFabResult<UnlockContainerItemResult>> UnlockContainerInstance(final UnlockContainerInstanceRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<UnlockContainerItemResult>>() {
+                public PlayFabResult<UnlockContainerItemResult> call() throws Exception {
+                    return PlayFabClientAPI.privateUnlockContainerInstanceAsync(PlayFabClientInstanceAPI.this, request);
+                }
+            });
+        }
+
+        /**
+         * Searches target inventory for an ItemInstance matching the given CatalogItemId, if necessary unlocks it using an
+         * appropriate key, and returns the contents of the opened container. If the container (and key when relevant) are
+         * consumable (RemainingUses &gt; 0), their RemainingUses will be decremented, consistent with the operation of ConsumeItem.
+         * @param request UnlockContainerItemRequest
+         * @return Running future that will complete with UnlockContainerItemResult
+         */
+        public PlayFabFuture<PlayFabResult<UnlockContainerItemResult>> UnlockContainerItem(final UnlockContainerItemRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<UnlockContainerItemResult>>() {
+                public PlayFabResult<UnlockContainerItemResult> call() throws Exception {
+                    return PlayFabClientAPI.privateUnlockContainerItemAsync(PlayFabClientInstanceAPI.this, request);
+                }
+            });
+        }
+
+        /**
+         * Update the avatar URL of the player
+         * @param request UpdateAvatarUrlRequest
+         * @return Running future that will complete with EmptyResponse
+         */
+        public PlayFabFuture<PlayFabResult<EmptyResponse>> UpdateAvatarUrl(final UpdateAvatarUrlRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<EmptyResponse>>() {
+                public PlayFabResult<EmptyResponse> call() throws Exception {
+                    return PlayFabClientAPI.privateUpdateAvatarUrlAsync(PlayFabClientInstanceAPI.this, request);
+                }
+            });
+        }
+
+        /**
+         * Creates and updates the title-specific custom data for the user's character which is readable and writable by the client
+         * @param request UpdateCharacterDataRequest
+         * @return Running future that will complete with UpdateCharacterDataResult
+         */
+        public PlayFabFuture<PlayFabResult<UpdateCharacterDataResult>> UpdateCharacterData(final UpdateCharacterDataRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<UpdateCharacterDataResult>>() {
+                public PlayFabResult<UpdateCharacterDataResult> call() throws Exception {
+                    return PlayFabClientAPI.privateUpdateCharacterDataAsync(PlayFabClientInstanceAPI.this, request);
+                }
+            });
+        }
+
+        /**
+         * Updates the values of the specified title-specific statistics for the specific character. By default, clients are not
+         * permitted to update statistics. Developers may override this setting in the Game Manager &gt; Settings &gt; API Features.
+         * @param request UpdateCharacterStatisticsRequest
+         * @return Running future that will complete with UpdateCharacterStatisticsResult
+         */
+        public PlayFabFuture<PlayFabResult<UpdateCharacterStatisticsResult>> UpdateCharacterStatistics(final UpdateCharacterStatisticsRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<UpdateCharacterStatisticsResult>>() {
+                public PlayFabResult<UpdateCharacterStatisticsResult> call() throws Exception {
+                    return PlayFabClientAPI.privateUpdateCharacterStatisticsAsync(PlayFabClientInstanceAPI.this, request);
+                }
+            });
+        }
+
+        /**
+         * Updates the values of the specified title-specific statistics for the user. By default, clients are not permitted to
+         * update statistics. Developers may override this setting in the Game Manager &gt; Settings &gt; API Features.
+         * @param request UpdatePlayerStatisticsRequest
+         * @return Running future that will complete with UpdatePlayerStatisticsResult
+         */
+        public PlayFabFuture<PlayFabResult<UpdatePlayerStatisticsResult>> UpdatePlayerStatistics(final UpdatePlayerStatisticsRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<UpdatePlayerStatisticsResult>>() {
+                public PlayFabResult<UpdatePlayerStatisticsResult> call() throws Exception {
+                    return PlayFabClientAPI.privateUpdatePlayerStatisticsAsync(PlayFabClientInstanceAPI.this, request);
+                }
+            });
+        }
+
+        /**
+         * Adds, updates, and removes data keys for a shared group object. If the permission is set to Public, all fields updated
+         * or added in this call will be readable by users not in the group. By default, data permissions are set to Private.
+         * Regardless of the permission setting, only members of the group can update the data. Shared Groups are designed for
+         * sharing data between a very small number of players, please see our guide:
+         * https://docs.microsoft.com/gaming/playfab/features/social/groups/using-shared-group-data
+         * @param request UpdateSharedGroupDataRequest
+         * @return Running future that will complete with UpdateSharedGroupDataResult
+         */
+        public PlayFabFuture<PlayFabResult<UpdateSharedGroupDataResult>> UpdateSharedGroupData(final UpdateSharedGroupDataRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<UpdateSharedGroupDataResult>>() {
+                public PlayFabResult<UpdateSharedGroupDataResult> call() throws Exception {
+                    return PlayFabClientAPI.privateUpdateSharedGroupDataAsync(PlayFabClientInstanceAPI.this, request);
+                }
+            });
+        }
+
+        /**
+         * Creates and updates the title-specific custom data for the user which is readable and writable by the client
+         * @param request UpdateUserDataRequest
+         * @return Running future that will complete with UpdateUserDataResult
+         */
+        public PlayFabFuture<PlayFabResult<UpdateUserDataResult>> UpdateUserData(final UpdateUserDataRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<UpdateUserDataResult>>() {
+                public PlayFabResult<UpdateUserDataResult> call() throws Exception {
+                    return PlayFabClientAPI.privateUpdateUserDataAsync(PlayFabClientInstanceAPI.this, request);
+                }
+            });
+        }
+
+        /**
+         * Creates and updates the publisher-specific custom data for the user which is readable and writable by the client
+         * @param request UpdateUserDataRequest
+         * @return Running future that will complete with UpdateUserDataResult
+         */
+        public PlayFabFuture<PlayFabResult<UpdateUserDataResult>> UpdateUserPublisherData(final UpdateUserDataRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<UpdateUserDataResult>>() {
+                public PlayFabResult<UpdateUserDataResult> call() throws Exception {
+                    return PlayFabClientAPI.privateUpdateUserPublisherDataAsync(PlayFabClientInstanceAPI.this, request);
+                }
+            });
+        }
+
+        /**
+         * Updates the title specific display name for the user
+         * @param request UpdateUserTitleDisplayNameRequest
+         * @return Running future that will complete with UpdateUserTitleDisplayNameResult
+         */
+        public PlayFabFuture<PlayFabResult<UpdateUserTitleDisplayNameResult>> UpdateUserTitleDisplayName(final UpdateUserTitleDisplayNameRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<UpdateUserTitleDisplayNameResult>>() {
+                public PlayFabResult<UpdateUserTitleDisplayNameResult> call() throws Exception {
+                    return PlayFabClientAPI.privateUpdateUserTitleDisplayNameAsync(PlayFabClientInstanceAPI.this, request);
+                }
+            });
+        }
+
+        /**
+         * Validates with Amazon that the receipt for an Amazon App Store in-app purchase is valid and that it matches the
+         * purchased catalog item
+         * @param request ValidateAmazonReceiptRequest
+         * @return Running future that will complete with ValidateAmazonReceiptResult
+         */
+        public PlayFabFuture<PlayFabResult<ValidateAmazonReceiptResult>> ValidateAmazonIAPReceipt(final ValidateAmazonReceiptRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<ValidateAmazonReceiptResult>>() {
+                public PlayFabResult<ValidateAmazonReceiptResult> call() throws Exception {
+                    return PlayFabClientAPI.privateValidateAmazonIAPReceiptAsync(PlayFabClientInstanceAPI.this, request);
+                }
+            });
+        }
+
+        /**
+         * Validates a Google Play purchase and gives the corresponding item to the player.
+         * @param request ValidateGooglePlayPurchaseRequest
+         * @return Running future that will complete with ValidateGooglePlayPurchaseResult
+         */
+        public PlayFabFuture<PlayFabResult<ValidateGooglePlayPurchaseResult>> ValidateGooglePlayPurchase(final ValidateGooglePlayPurchaseRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<ValidateGooglePlayPurchaseResult>>() {
+                public PlayFabResult<ValidateGooglePlayPurchaseResult> call() throws Exception {
+                    return PlayFabClientAPI.privateValidateGooglePlayPurchaseAsync(PlayFabClientInstanceAPI.this, request);
+                }
+            });
+        }
+
+        /**
+         * Validates with the Apple store that the receipt for an iOS in-app purchase is valid and that it matches the purchased
+         * catalog item
+         * @param request ValidateIOSReceiptRequest
+         * @return Running future that will complete with ValidateIOSReceiptResult
+         */
+        public PlayFabFuture<PlayFabResult<ValidateIOSReceiptResult>> ValidateIOSReceipt(final ValidateIOSReceiptRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<ValidateIOSReceiptResult>>() {
+                public PlayFabResult<ValidateIOSReceiptResult> call() throws Exception {
+                    return PlayFabClientAPI.privateValidateIOSReceiptAsync(PlayFabClientInstanceAPI.this, request);
+                }
+            });
+        }
+
+        /**
+         * Validates with Windows that the receipt for an Windows App Store in-app purchase is valid and that it matches the
+         * purchased catalog item
+         * @param request ValidateWindowsReceiptRequest
+         * @return Running future that will complete with ValidateWindowsReceiptResult
+         */
+        public PlayFabFuture<PlayFabResult<ValidateWindowsReceiptResult>> ValidateWindowsStoreReceipt(final ValidateWindowsReceiptRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<ValidateWindowsReceiptResult>>() {
+                public PlayFabResult<ValidateWindowsReceiptResult> call() throws Exception {
+                    return PlayFabClientAPI.privateValidateWindowsStoreReceiptAsync(PlayFabClientInstanceAPI.this, request);
+                }
+            });
+        }
+
+        /**
+         * Writes a character-based event into PlayStream.
+         * @param request WriteClientCharacterEventRequest
+         * @return Running future that will complete with WriteEventResponse
+         */
+        public PlayFabFuture<PlayFabResult<WriteEventResponse>> WriteCharacterEvent(final WriteClientCharacterEventRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<WriteEventResponse>>() {
+                public PlayFabResult<WriteEventResponse> call() throws Exception {
+                    return PlayFabClientAPI.privateWriteCharacterEventAsync(PlayFabClientInstanceAPI.this, request);
+                }
+            });
+        }
+
+        /**
+         * Writes a player-based event into PlayStream.
+         * @param request WriteClientPlayerEventRequest
+         * @return Running future that will complete with WriteEventResponse
+         */
+        public PlayFabFuture<PlayFabResult<WriteEventResponse>> WritePlayerEvent(final WriteClientPlayerEventRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<WriteEventResponse>>() {
+                public PlayFabResult<WriteEventResponse> call() throws Exception {
+                    return PlayFabClientAPI.privateWritePlayerEventAsync(PlayFabClientInstanceAPI.this, request);
+                }
+            });
+        }
+
+        /**
+         * Writes a title-based event into PlayStream.
+         * @param request WriteTitleEventRequest
+         * @return Running future that will complete with WriteEventResponse
+         */
+        public PlayFabFuture<PlayFabResult<WriteEventResponse>> WriteTitleEvent(final WriteTitleEventRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<WriteEventResponse>>() {
+                public PlayFabResult<WriteEventResponse> call() throws Exception {
+                    return PlayFabClientAPI.privateWriteTitleEventAsync(PlayFabClientInstanceAPI.this, request);
+                }
+            });
+        }
+    }
+}
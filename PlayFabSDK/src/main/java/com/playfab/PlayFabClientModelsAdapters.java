@@ -0,0 +1,17047 @@
+package com.playfab;
+
+import java.io.IOException;
+import java.util.Date;
+import com.google.gson.*;
+import com.google.gson.reflect.TypeToken;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
+import com.playfab.PlayFabClientModels.*;
+import com.playfab.internal.PlayFabJson;
+
+/**
+ * Streaming TypeAdapters for every class in PlayFabClientModels, so models are read and written without field reflection.
+ * PlayFabJson finds FACTORY through this class name. Enums keep Gson's own adapters, which do no per-call reflection.
+ * Generated from PlayFabClientModels by PlayFabModelAdaptersGenerator, in the PlayFabSDK tests: regenerate rather than edit.
+ */
+public class PlayFabClientModelsAdapters {
+    public static final TypeAdapterFactory FACTORY = new TypeAdapterFactory() {
+        @SuppressWarnings("unchecked")
+        public <T> TypeAdapter<T> create(Gson gson, TypeToken<T> type) {
+            Class<?> raw = type.getRawType();
+            if (raw.getDeclaringClass() != PlayFabClientModels.class)
+                return null;
+            switch (raw.getSimpleName()) {
+                case "AcceptTradeRequest": return (TypeAdapter<T>) new AcceptTradeRequestAdapter(gson);
+                case "AcceptTradeResponse": return (TypeAdapter<T>) new AcceptTradeResponseAdapter(gson);
+                case "AdCampaignAttributionModel": return (TypeAdapter<T>) new AdCampaignAttributionModelAdapter(gson);
+                case "AddFriendRequest": return (TypeAdapter<T>) new AddFriendRequestAdapter(gson);
+                case "AddFriendResult": return (TypeAdapter<T>) new AddFriendResultAdapter(gson);
+                case "AddGenericIDRequest": return (TypeAdapter<T>) new AddGenericIDRequestAdapter(gson);
+                case "AddGenericIDResult": return (TypeAdapter<T>) new AddGenericIDResultAdapter(gson);
+                case "AddOrUpdateContactEmailRequest": return (TypeAdapter<T>) new AddOrUpdateContactEmailRequestAdapter(gson);
+                case "AddOrUpdateContactEmailResult": return (TypeAdapter<T>) new AddOrUpdateContactEmailResultAdapter(gson);
+                case "AddSharedGroupMembersRequest": return (TypeAdapter<T>) new AddSharedGroupMembersRequestAdapter(gson);
+                case "AddSharedGroupMembersResult": return (TypeAdapter<T>) new AddSharedGroupMembersResultAdapter(gson);
+                case "AddUsernamePasswordRequest": return (TypeAdapter<T>) new AddUsernamePasswordRequestAdapter(gson);
+                case "AddUsernamePasswordResult": return (TypeAdapter<T>) new AddUsernamePasswordResultAdapter(gson);
+                case "AddUserVirtualCurrencyRequest": return (TypeAdapter<T>) new AddUserVirtualCurrencyRequestAdapter(gson);
+                case "AdPlacementDetails": return (TypeAdapter<T>) new AdPlacementDetailsAdapter(gson);
+                case "AdRewardItemGranted": return (TypeAdapter<T>) new AdRewardItemGrantedAdapter(gson);
+                case "AdRewardResults": return (TypeAdapter<T>) new AdRewardResultsAdapter(gson);
+                case "AndroidDevicePushNotificationRegistrationRequest": return (TypeAdapter<T>) new AndroidDevicePushNotificationRegistrationRequestAdapter(gson);
+                case "AndroidDevicePushNotificationRegistrationResult": return (TypeAdapter<T>) new AndroidDevicePushNotificationRegistrationResultAdapter(gson);
+                case "AttributeInstallRequest": return (TypeAdapter<T>) new AttributeInstallRequestAdapter(gson);
+                case "AttributeInstallResult": return (TypeAdapter<T>) new AttributeInstallResultAdapter(gson);
+                case "CancelTradeRequest": return (TypeAdapter<T>) new CancelTradeRequestAdapter(gson);
+                case "CancelTradeResponse": return (TypeAdapter<T>) new CancelTradeResponseAdapter(gson);
+                case "CartItem": return (TypeAdapter<T>) new CartItemAdapter(gson);
+                case "CatalogItem": return (TypeAdapter<T>) new CatalogItemAdapter(gson);
+                case "CatalogItemBundleInfo": return (TypeAdapter<T>) new CatalogItemBundleInfoAdapter(gson);
+                case "CatalogItemConsumableInfo": return (TypeAdapter<T>) new CatalogItemConsumableInfoAdapter(gson);
+                case "CatalogItemContainerInfo": return (TypeAdapter<T>) new CatalogItemContainerInfoAdapter(gson);
+                case "CharacterInventory": return (TypeAdapter<T>) new CharacterInventoryAdapter(gson);
+                case "CharacterLeaderboardEntry": return (TypeAdapter<T>) new CharacterLeaderboardEntryAdapter(gson);
+                case "CharacterResult": return (TypeAdapter<T>) new CharacterResultAdapter(gson);
+                case "CollectionFilter": return (TypeAdapter<T>) new CollectionFilterAdapter(gson);
+                case "ConfirmPurchaseRequest": return (TypeAdapter<T>) new ConfirmPurchaseRequestAdapter(gson);
+                case "ConfirmPurchaseResult": return (TypeAdapter<T>) new ConfirmPurchaseResultAdapter(gson);
+                case "ConsumeItemRequest": return (TypeAdapter<T>) new ConsumeItemRequestAdapter(gson);
+                case "ConsumeItemResult": return (TypeAdapter<T>) new ConsumeItemResultAdapter(gson);
+                case "ConsumeMicrosoftStoreEntitlementsRequest": return (TypeAdapter<T>) new ConsumeMicrosoftStoreEntitlementsRequestAdapter(gson);
+                case "ConsumeMicrosoftStoreEntitlementsResponse": return (TypeAdapter<T>) new ConsumeMicrosoftStoreEntitlementsResponseAdapter(gson);
+                case "ConsumePS5EntitlementsRequest": return (TypeAdapter<T>) new ConsumePS5EntitlementsRequestAdapter(gson);
+                case "ConsumePS5EntitlementsResult": return (TypeAdapter<T>) new ConsumePS5EntitlementsResultAdapter(gson);
+                case "ConsumePSNEntitlementsRequest": return (TypeAdapter<T>) new ConsumePSNEntitlementsRequestAdapter(gson);
+                case "ConsumePSNEntitlementsResult": return (TypeAdapter<T>) new ConsumePSNEntitlementsResultAdapter(gson);
+                case "ConsumeXboxEntitlementsRequest": return (TypeAdapter<T>) new ConsumeXboxEntitlementsRequestAdapter(gson);
+                case "ConsumeXboxEntitlementsResult": return (TypeAdapter<T>) new ConsumeXboxEntitlementsResultAdapter(gson);
+                case "ContactEmailInfoModel": return (TypeAdapter<T>) new ContactEmailInfoModelAdapter(gson);
+                case "Container_Dictionary_String_String": return (TypeAdapter<T>) new Container_Dictionary_String_StringAdapter(gson);
+                case "CreateSharedGroupRequest": return (TypeAdapter<T>) new CreateSharedGroupRequestAdapter(gson);
+                case "CreateSharedGroupResult": return (TypeAdapter<T>) new CreateSharedGroupResultAdapter(gson);
+                case "CurrentGamesRequest": return (TypeAdapter<T>) new CurrentGamesRequestAdapter(gson);
+                case "CurrentGamesResult": return (TypeAdapter<T>) new CurrentGamesResultAdapter(gson);
+                case "DeviceInfoRequest": return (TypeAdapter<T>) new DeviceInfoRequestAdapter(gson);
+                case "EmptyResponse": return (TypeAdapter<T>) new EmptyResponseAdapter(gson);
+                case "EmptyResult": return (TypeAdapter<T>) new EmptyResultAdapter(gson);
+                case "EntityKey": return (TypeAdapter<T>) new EntityKeyAdapter(gson);
+                case "EntityTokenResponse": return (TypeAdapter<T>) new EntityTokenResponseAdapter(gson);
+                case "ExecuteCloudScriptRequest": return (TypeAdapter<T>) new ExecuteCloudScriptRequestAdapter(gson);
+                case "ExecuteCloudScriptResult": return (TypeAdapter<T>) new ExecuteCloudScriptResultAdapter(gson);
+                case "FacebookInstantGamesPlayFabIdPair": return (TypeAdapter<T>) new FacebookInstantGamesPlayFabIdPairAdapter(gson);
+                case "FacebookPlayFabIdPair": return (TypeAdapter<T>) new FacebookPlayFabIdPairAdapter(gson);
+                case "FriendInfo": return (TypeAdapter<T>) new FriendInfoAdapter(gson);
+                case "GameCenterPlayFabIdPair": return (TypeAdapter<T>) new GameCenterPlayFabIdPairAdapter(gson);
+                case "GameInfo": return (TypeAdapter<T>) new GameInfoAdapter(gson);
+                case "GameServerRegionsRequest": return (TypeAdapter<T>) new GameServerRegionsRequestAdapter(gson);
+                case "GameServerRegionsResult": return (TypeAdapter<T>) new GameServerRegionsResultAdapter(gson);
+                case "GenericPlayFabIdPair": return (TypeAdapter<T>) new GenericPlayFabIdPairAdapter(gson);
+                case "GenericServiceId": return (TypeAdapter<T>) new GenericServiceIdAdapter(gson);
+                case "GetAccountInfoRequest": return (TypeAdapter<T>) new GetAccountInfoRequestAdapter(gson);
+                case "GetAccountInfoResult": return (TypeAdapter<T>) new GetAccountInfoResultAdapter(gson);
+                case "GetAdPlacementsRequest": return (TypeAdapter<T>) new GetAdPlacementsRequestAdapter(gson);
+                case "GetAdPlacementsResult": return (TypeAdapter<T>) new GetAdPlacementsResultAdapter(gson);
+                case "GetCatalogItemsRequest": return (TypeAdapter<T>) new GetCatalogItemsRequestAdapter(gson);
+                case "GetCatalogItemsResult": return (TypeAdapter<T>) new GetCatalogItemsResultAdapter(gson);
+                case "GetCharacterDataRequest": return (TypeAdapter<T>) new GetCharacterDataRequestAdapter(gson);
+                case "GetCharacterDataResult": return (TypeAdapter<T>) new GetCharacterDataResultAdapter(gson);
+                case "GetCharacterInventoryRequest": return (TypeAdapter<T>) new GetCharacterInventoryRequestAdapter(gson);
+                case "GetCharacterInventoryResult": return (TypeAdapter<T>) new GetCharacterInventoryResultAdapter(gson);
+                case "GetCharacterLeaderboardRequest": return (TypeAdapter<T>) new GetCharacterLeaderboardRequestAdapter(gson);
+                case "GetCharacterLeaderboardResult": return (TypeAdapter<T>) new GetCharacterLeaderboardResultAdapter(gson);
+                case "GetCharacterStatisticsRequest": return (TypeAdapter<T>) new GetCharacterStatisticsRequestAdapter(gson);
+                case "GetCharacterStatisticsResult": return (TypeAdapter<T>) new GetCharacterStatisticsResultAdapter(gson);
+                case "GetContentDownloadUrlRequest": return (TypeAdapter<T>) new GetContentDownloadUrlRequestAdapter(gson);
+                case "GetContentDownloadUrlResult": return (TypeAdapter<T>) new GetContentDownloadUrlResultAdapter(gson);
+                case "GetFriendLeaderboardAroundPlayerRequest": return (TypeAdapter<T>) new GetFriendLeaderboardAroundPlayerRequestAdapter(gson);
+                case "GetFriendLeaderboardAroundPlayerResult": return (TypeAdapter<T>) new GetFriendLeaderboardAroundPlayerResultAdapter(gson);
+                case "GetFriendLeaderboardRequest": return (TypeAdapter<T>) new GetFriendLeaderboardRequestAdapter(gson);
+                case "GetFriendsListRequest": return (TypeAdapter<T>) new GetFriendsListRequestAdapter(gson);
+                case "GetFriendsListResult": return (TypeAdapter<T>) new GetFriendsListResultAdapter(gson);
+                case "GetLeaderboardAroundCharacterRequest": return (TypeAdapter<T>) new GetLeaderboardAroundCharacterRequestAdapter(gson);
+                case "GetLeaderboardAroundCharacterResult": return (TypeAdapter<T>) new GetLeaderboardAroundCharacterResultAdapter(gson);
+                case "GetLeaderboardAroundPlayerRequest": return (TypeAdapter<T>) new GetLeaderboardAroundPlayerRequestAdapter(gson);
+                case "GetLeaderboardAroundPlayerResult": return (TypeAdapter<T>) new GetLeaderboardAroundPlayerResultAdapter(gson);
+                case "GetLeaderboardForUsersCharactersRequest": return (TypeAdapter<T>) new GetLeaderboardForUsersCharactersRequestAdapter(gson);
+                case "GetLeaderboardForUsersCharactersResult": return (TypeAdapter<T>) new GetLeaderboardForUsersCharactersResultAdapter(gson);
+                case "GetLeaderboardRequest": return (TypeAdapter<T>) new GetLeaderboardRequestAdapter(gson);
+                case "GetLeaderboardResult": return (TypeAdapter<T>) new GetLeaderboardResultAdapter(gson);
+                case "GetPaymentTokenRequest": return (TypeAdapter<T>) new GetPaymentTokenRequestAdapter(gson);
+                case "GetPaymentTokenResult": return (TypeAdapter<T>) new GetPaymentTokenResultAdapter(gson);
+                case "GetPhotonAuthenticationTokenRequest": return (TypeAdapter<T>) new GetPhotonAuthenticationTokenRequestAdapter(gson);
+                case "GetPhotonAuthenticationTokenResult": return (TypeAdapter<T>) new GetPhotonAuthenticationTokenResultAdapter(gson);
+                case "GetPlayerCombinedInfoRequest": return (TypeAdapter<T>) new GetPlayerCombinedInfoRequestAdapter(gson);
+                case "GetPlayerCombinedInfoRequestParams": return (TypeAdapter<T>) new GetPlayerCombinedInfoRequestParamsAdapter(gson);
+                case "GetPlayerCombinedInfoResult": return (TypeAdapter<T>) new GetPlayerCombinedInfoResultAdapter(gson);
+                case "GetPlayerCombinedInfoResultPayload": return (TypeAdapter<T>) new GetPlayerCombinedInfoResultPayloadAdapter(gson);
+                case "GetPlayerProfileRequest": return (TypeAdapter<T>) new GetPlayerProfileRequestAdapter(gson);
+                case "GetPlayerProfileResult": return (TypeAdapter<T>) new GetPlayerProfileResultAdapter(gson);
+                case "GetPlayerSegmentsRequest": return (TypeAdapter<T>) new GetPlayerSegmentsRequestAdapter(gson);
+                case "GetPlayerSegmentsResult": return (TypeAdapter<T>) new GetPlayerSegmentsResultAdapter(gson);
+                case "GetPlayerStatisticsRequest": return (TypeAdapter<T>) new GetPlayerStatisticsRequestAdapter(gson);
+                case "GetPlayerStatisticsResult": return (TypeAdapter<T>) new GetPlayerStatisticsResultAdapter(gson);
+                case "GetPlayerStatisticVersionsRequest": return (TypeAdapter<T>) new GetPlayerStatisticVersionsRequestAdapter(gson);
+                case "GetPlayerStatisticVersionsResult": return (TypeAdapter<T>) new GetPlayerStatisticVersionsResultAdapter(gson);
+                case "GetPlayerTagsRequest": return (TypeAdapter<T>) new GetPlayerTagsRequestAdapter(gson);
+                case "GetPlayerTagsResult": return (TypeAdapter<T>) new GetPlayerTagsResultAdapter(gson);
+                case "GetPlayerTradesRequest": return (TypeAdapter<T>) new GetPlayerTradesRequestAdapter(gson);
+                case "GetPlayerTradesResponse": return (TypeAdapter<T>) new GetPlayerTradesResponseAdapter(gson);
+                case "GetPlayFabIDsFromFacebookIDsRequest": return (TypeAdapter<T>) new GetPlayFabIDsFromFacebookIDsRequestAdapter(gson);
+                case "GetPlayFabIDsFromFacebookIDsResult": return (TypeAdapter<T>) new GetPlayFabIDsFromFacebookIDsResultAdapter(gson);
+                case "GetPlayFabIDsFromFacebookInstantGamesIdsRequest": return (TypeAdapter<T>) new GetPlayFabIDsFromFacebookInstantGamesIdsRequestAdapter(gson);
+                case "GetPlayFabIDsFromFacebookInstantGamesIdsResult": return (TypeAdapter<T>) new GetPlayFabIDsFromFacebookInstantGamesIdsResultAdapter(gson);
+                case "GetPlayFabIDsFromGameCenterIDsRequest": return (TypeAdapter<T>) new GetPlayFabIDsFromGameCenterIDsRequestAdapter(gson);
+                case "GetPlayFabIDsFromGameCenterIDsResult": return (TypeAdapter<T>) new GetPlayFabIDsFromGameCenterIDsResultAdapter(gson);
+                case "GetPlayFabIDsFromGenericIDsRequest": return (TypeAdapter<T>) new GetPlayFabIDsFromGenericIDsRequestAdapter(gson);
+                case "GetPlayFabIDsFromGenericIDsResult": return (TypeAdapter<T>) new GetPlayFabIDsFromGenericIDsResultAdapter(gson);
+                case "GetPlayFabIDsFromGoogleIDsRequest": return (TypeAdapter<T>) new GetPlayFabIDsFromGoogleIDsRequestAdapter(gson);
+                case "GetPlayFabIDsFromGoogleIDsResult": return (TypeAdapter<T>) new GetPlayFabIDsFromGoogleIDsResultAdapter(gson);
+                case "GetPlayFabIDsFromKongregateIDsRequest": return (TypeAdapter<T>) new GetPlayFabIDsFromKongregateIDsRequestAdapter(gson);
+                case "GetPlayFabIDsFromKongregateIDsResult": return (TypeAdapter<T>) new GetPlayFabIDsFromKongregateIDsResultAdapter(gson);
+                case "GetPlayFabIDsFromNintendoSwitchDeviceIdsRequest": return (TypeAdapter<T>) new GetPlayFabIDsFromNintendoSwitchDeviceIdsRequestAdapter(gson);
+                case "GetPlayFabIDsFromNintendoSwitchDeviceIdsResult": return (TypeAdapter<T>) new GetPlayFabIDsFromNintendoSwitchDeviceIdsResultAdapter(gson);
+                case "GetPlayFabIDsFromPSNAccountIDsRequest": return (TypeAdapter<T>) new GetPlayFabIDsFromPSNAccountIDsRequestAdapter(gson);
+                case "GetPlayFabIDsFromPSNAccountIDsResult": return (TypeAdapter<T>) new GetPlayFabIDsFromPSNAccountIDsResultAdapter(gson);
+                case "GetPlayFabIDsFromSteamIDsRequest": return (TypeAdapter<T>) new GetPlayFabIDsFromSteamIDsRequestAdapter(gson);
+                case "GetPlayFabIDsFromSteamIDsResult": return (TypeAdapter<T>) new GetPlayFabIDsFromSteamIDsResultAdapter(gson);
+                case "GetPlayFabIDsFromTwitchIDsRequest": return (TypeAdapter<T>) new GetPlayFabIDsFromTwitchIDsRequestAdapter(gson);
+                case "GetPlayFabIDsFromTwitchIDsResult": return (TypeAdapter<T>) new GetPlayFabIDsFromTwitchIDsResultAdapter(gson);
+                case "GetPlayFabIDsFromXboxLiveIDsRequest": return (TypeAdapter<T>) new GetPlayFabIDsFromXboxLiveIDsRequestAdapter(gson);
+                case "GetPlayFabIDsFromXboxLiveIDsResult": return (TypeAdapter<T>) new GetPlayFabIDsFromXboxLiveIDsResultAdapter(gson);
+                case "GetPublisherDataRequest": return (TypeAdapter<T>) new GetPublisherDataRequestAdapter(gson);
+                case "GetPublisherDataResult": return (TypeAdapter<T>) new GetPublisherDataResultAdapter(gson);
+                case "GetPurchaseRequest": return (TypeAdapter<T>) new GetPurchaseRequestAdapter(gson);
+                case "GetPurchaseResult": return (TypeAdapter<T>) new GetPurchaseResultAdapter(gson);
+                case "GetSegmentResult": return (TypeAdapter<T>) new GetSegmentResultAdapter(gson);
+                case "GetSharedGroupDataRequest": return (TypeAdapter<T>) new GetSharedGroupDataRequestAdapter(gson);
+                case "GetSharedGroupDataResult": return (TypeAdapter<T>) new GetSharedGroupDataResultAdapter(gson);
+                case "GetStoreItemsRequest": return (TypeAdapter<T>) new GetStoreItemsRequestAdapter(gson);
+                case "GetStoreItemsResult": return (TypeAdapter<T>) new GetStoreItemsResultAdapter(gson);
+                case "GetTimeRequest": return (TypeAdapter<T>) new GetTimeRequestAdapter(gson);
+                case "GetTimeResult": return (TypeAdapter<T>) new GetTimeResultAdapter(gson);
+                case "GetTitleDataRequest": return (TypeAdapter<T>) new GetTitleDataRequestAdapter(gson);
+                case "GetTitleDataResult": return (TypeAdapter<T>) new GetTitleDataResultAdapter(gson);
+                case "GetTitleNewsRequest": return (TypeAdapter<T>) new GetTitleNewsRequestAdapter(gson);
+                case "GetTitleNewsResult": return (TypeAdapter<T>) new GetTitleNewsResultAdapter(gson);
+                case "GetTitlePublicKeyRequest": return (TypeAdapter<T>) new GetTitlePublicKeyRequestAdapter(gson);
+                case "GetTitlePublicKeyResult": return (TypeAdapter<T>) new GetTitlePublicKeyResultAdapter(gson);
+                case "GetTradeStatusRequest": return (TypeAdapter<T>) new GetTradeStatusRequestAdapter(gson);
+                case "GetTradeStatusResponse": return (TypeAdapter<T>) new GetTradeStatusResponseAdapter(gson);
+                case "GetUserDataRequest": return (TypeAdapter<T>) new GetUserDataRequestAdapter(gson);
+                case "GetUserDataResult": return (TypeAdapter<T>) new GetUserDataResultAdapter(gson);
+                case "GetUserInventoryRequest": return (TypeAdapter<T>) new GetUserInventoryRequestAdapter(gson);
+                case "GetUserInventoryResult": return (TypeAdapter<T>) new GetUserInventoryResultAdapter(gson);
+                case "GooglePlayFabIdPair": return (TypeAdapter<T>) new GooglePlayFabIdPairAdapter(gson);
+                case "GrantCharacterToUserRequest": return (TypeAdapter<T>) new GrantCharacterToUserRequestAdapter(gson);
+                case "GrantCharacterToUserResult": return (TypeAdapter<T>) new GrantCharacterToUserResultAdapter(gson);
+                case "ItemInstance": return (TypeAdapter<T>) new ItemInstanceAdapter(gson);
+                case "ItemPurchaseRequest": return (TypeAdapter<T>) new ItemPurchaseRequestAdapter(gson);
+                case "KongregatePlayFabIdPair": return (TypeAdapter<T>) new KongregatePlayFabIdPairAdapter(gson);
+                case "LinkAndroidDeviceIDRequest": return (TypeAdapter<T>) new LinkAndroidDeviceIDRequestAdapter(gson);
+                case "LinkAndroidDeviceIDResult": return (TypeAdapter<T>) new LinkAndroidDeviceIDResultAdapter(gson);
+                case "LinkAppleRequest": return (TypeAdapter<T>) new LinkAppleRequestAdapter(gson);
+                case "LinkCustomIDRequest": return (TypeAdapter<T>) new LinkCustomIDRequestAdapter(gson);
+                case "LinkCustomIDResult": return (TypeAdapter<T>) new LinkCustomIDResultAdapter(gson);
+                case "LinkedPlatformAccountModel": return (TypeAdapter<T>) new LinkedPlatformAccountModelAdapter(gson);
+                case "LinkFacebookAccountRequest": return (TypeAdapter<T>) new LinkFacebookAccountRequestAdapter(gson);
+                case "LinkFacebookAccountResult": return (TypeAdapter<T>) new LinkFacebookAccountResultAdapter(gson);
+                case "LinkFacebookInstantGamesIdRequest": return (TypeAdapter<T>) new LinkFacebookInstantGamesIdRequestAdapter(gson);
+                case "LinkFacebookInstantGamesIdResult": return (TypeAdapter<T>) new LinkFacebookInstantGamesIdResultAdapter(gson);
+                case "LinkGameCenterAccountRequest": return (TypeAdapter<T>) new LinkGameCenterAccountRequestAdapter(gson);
+                case "LinkGameCenterAccountResult": return (TypeAdapter<T>) new LinkGameCenterAccountResultAdapter(gson);
+                case "LinkGoogleAccountRequest": return (TypeAdapter<T>) new LinkGoogleAccountRequestAdapter(gson);
+                case "LinkGoogleAccountResult": return (TypeAdapter<T>) new LinkGoogleAccountResultAdapter(gson);
+                case "LinkIOSDeviceIDRequest": return (TypeAdapter<T>) new LinkIOSDeviceIDRequestAdapter(gson);
+                case "LinkIOSDeviceIDResult": return (TypeAdapter<T>) new LinkIOSDeviceIDResultAdapter(gson);
+                case "LinkKongregateAccountRequest": return (TypeAdapter<T>) new LinkKongregateAccountRequestAdapter(gson);
+                case "LinkKongregateAccountResult": return (TypeAdapter<T>) new LinkKongregateAccountResultAdapter(gson);
+                case "LinkNintendoServiceAccountRequest": return (TypeAdapter<T>) new LinkNintendoServiceAccountRequestAdapter(gson);
+                case "LinkNintendoSwitchDeviceIdRequest": return (TypeAdapter<T>) new LinkNintendoSwitchDeviceIdRequestAdapter(gson);
+                case "LinkNintendoSwitchDeviceIdResult": return (TypeAdapter<T>) new LinkNintendoSwitchDeviceIdResultAdapter(gson);
+                case "LinkOpenIdConnectRequest": return (TypeAdapter<T>) new LinkOpenIdConnectRequestAdapter(gson);
+                case "LinkPSNAccountRequest": return (TypeAdapter<T>) new LinkPSNAccountRequestAdapter(gson);
+                case "LinkPSNAccountResult": return (TypeAdapter<T>) new LinkPSNAccountResultAdapter(gson);
+                case "LinkSteamAccountRequest": return (TypeAdapter<T>) new LinkSteamAccountRequestAdapter(gson);
+                case "LinkSteamAccountResult": return (TypeAdapter<T>) new LinkSteamAccountResultAdapter(gson);
+                case "LinkTwitchAccountRequest": return (TypeAdapter<T>) new LinkTwitchAccountRequestAdapter(gson);
+                case "LinkTwitchAccountResult": return (TypeAdapter<T>) new LinkTwitchAccountResultAdapter(gson);
+                case "LinkXboxAccountRequest": return (TypeAdapter<T>) new LinkXboxAccountRequestAdapter(gson);
+                case "LinkXboxAccountResult": return (TypeAdapter<T>) new LinkXboxAccountResultAdapter(gson);
+                case "ListUsersCharactersRequest": return (TypeAdapter<T>) new ListUsersCharactersRequestAdapter(gson);
+                case "ListUsersCharactersResult": return (TypeAdapter<T>) new ListUsersCharactersResultAdapter(gson);
+                case "LocationModel": return (TypeAdapter<T>) new LocationModelAdapter(gson);
+                case "LoginResult": return (TypeAdapter<T>) new LoginResultAdapter(gson);
+                case "LoginWithAndroidDeviceIDRequest": return (TypeAdapter<T>) new LoginWithAndroidDeviceIDRequestAdapter(gson);
+                case "LoginWithAppleRequest": return (TypeAdapter<T>) new LoginWithAppleRequestAdapter(gson);
+                case "LoginWithCustomIDRequest": return (TypeAdapter<T>) new LoginWithCustomIDRequestAdapter(gson);
+                case "LoginWithEmailAddressRequest": return (TypeAdapter<T>) new LoginWithEmailAddressRequestAdapter(gson);
+                case "LoginWithFacebookInstantGamesIdRequest": return (TypeAdapter<T>) new LoginWithFacebookInstantGamesIdRequestAdapter(gson);
+                case "LoginWithFacebookRequest": return (TypeAdapter<T>) new LoginWithFacebookRequestAdapter(gson);
+                case "LoginWithGameCenterRequest": return (TypeAdapter<T>) new LoginWithGameCenterRequestAdapter(gson);
+                case "LoginWithGoogleAccountRequest": return (TypeAdapter<T>) new LoginWithGoogleAccountRequestAdapter(gson);
+                case "LoginWithIOSDeviceIDRequest": return (TypeAdapter<T>) new LoginWithIOSDeviceIDRequestAdapter(gson);
+                case "LoginWithKongregateRequest": return (TypeAdapter<T>) new LoginWithKongregateRequestAdapter(gson);
+                case "LoginWithNintendoServiceAccountRequest": return (TypeAdapter<T>) new LoginWithNintendoServiceAccountRequestAdapter(gson);
+                case "LoginWithNintendoSwitchDeviceIdRequest": return (TypeAdapter<T>) new LoginWithNintendoSwitchDeviceIdRequestAdapter(gson);
+                case "LoginWithOpenIdConnectRequest": return (TypeAdapter<T>) new LoginWithOpenIdConnectRequestAdapter(gson);
+                case "LoginWithPlayFabRequest": return (TypeAdapter<T>) new LoginWithPlayFabRequestAdapter(gson);
+                case "LoginWithPSNRequest": return (TypeAdapter<T>) new LoginWithPSNRequestAdapter(gson);
+                case "LoginWithSteamRequest": return (TypeAdapter<T>) new LoginWithSteamRequestAdapter(gson);
+                case "LoginWithTwitchRequest": return (TypeAdapter<T>) new LoginWithTwitchRequestAdapter(gson);
+                case "LoginWithXboxRequest": return (TypeAdapter<T>) new LoginWithXboxRequestAdapter(gson);
+                case "LogStatement": return (TypeAdapter<T>) new LogStatementAdapter(gson);
+                case "MatchmakeRequest": return (TypeAdapter<T>) new MatchmakeRequestAdapter(gson);
+                case "MatchmakeResult": return (TypeAdapter<T>) new MatchmakeResultAdapter(gson);
+                case "MembershipModel": return (TypeAdapter<T>) new MembershipModelAdapter(gson);
+                case "MicrosoftStorePayload": return (TypeAdapter<T>) new MicrosoftStorePayloadAdapter(gson);
+                case "ModifyUserVirtualCurrencyResult": return (TypeAdapter<T>) new ModifyUserVirtualCurrencyResultAdapter(gson);
+                case "NameIdentifier": return (TypeAdapter<T>) new NameIdentifierAdapter(gson);
+                case "NintendoSwitchPlayFabIdPair": return (TypeAdapter<T>) new NintendoSwitchPlayFabIdPairAdapter(gson);
+                case "OpenTradeRequest": return (TypeAdapter<T>) new OpenTradeRequestAdapter(gson);
+                case "OpenTradeResponse": return (TypeAdapter<T>) new OpenTradeResponseAdapter(gson);
+                case "PayForPurchaseRequest": return (TypeAdapter<T>) new PayForPurchaseRequestAdapter(gson);
+                case "PayForPurchaseResult": return (TypeAdapter<T>) new PayForPurchaseResultAdapter(gson);
+                case "PaymentOption": return (TypeAdapter<T>) new PaymentOptionAdapter(gson);
+                case "PlayerLeaderboardEntry": return (TypeAdapter<T>) new PlayerLeaderboardEntryAdapter(gson);
+                case "PlayerProfileModel": return (TypeAdapter<T>) new PlayerProfileModelAdapter(gson);
+                case "PlayerProfileViewConstraints": return (TypeAdapter<T>) new PlayerProfileViewConstraintsAdapter(gson);
+                case "PlayerStatisticVersion": return (TypeAdapter<T>) new PlayerStatisticVersionAdapter(gson);
+                case "PlayStation5Payload": return (TypeAdapter<T>) new PlayStation5PayloadAdapter(gson);
+                case "PSNAccountPlayFabIdPair": return (TypeAdapter<T>) new PSNAccountPlayFabIdPairAdapter(gson);
+                case "PurchaseItemRequest": return (TypeAdapter<T>) new PurchaseItemRequestAdapter(gson);
+                case "PurchaseItemResult": return (TypeAdapter<T>) new PurchaseItemResultAdapter(gson);
+                case "PurchaseReceiptFulfillment": return (TypeAdapter<T>) new PurchaseReceiptFulfillmentAdapter(gson);
+                case "PushNotificationRegistrationModel": return (TypeAdapter<T>) new PushNotificationRegistrationModelAdapter(gson);
+                case "RedeemCouponRequest": return (TypeAdapter<T>) new RedeemCouponRequestAdapter(gson);
+                case "RedeemCouponResult": return (TypeAdapter<T>) new RedeemCouponResultAdapter(gson);
+                case "RefreshPSNAuthTokenRequest": return (TypeAdapter<T>) new RefreshPSNAuthTokenRequestAdapter(gson);
+                case "RegionInfo": return (TypeAdapter<T>) new RegionInfoAdapter(gson);
+                case "RegisterForIOSPushNotificationRequest": return (TypeAdapter<T>) new RegisterForIOSPushNotificationRequestAdapter(gson);
+                case "RegisterForIOSPushNotificationResult": return (TypeAdapter<T>) new RegisterForIOSPushNotificationResultAdapter(gson);
+                case "RegisterPlayFabUserRequest": return (TypeAdapter<T>) new RegisterPlayFabUserRequestAdapter(gson);
+                case "RegisterPlayFabUserResult": return (TypeAdapter<T>) new RegisterPlayFabUserResultAdapter(gson);
+                case "RemoveContactEmailRequest": return (TypeAdapter<T>) new RemoveContactEmailRequestAdapter(gson);
+                case "RemoveContactEmailResult": return (TypeAdapter<T>) new RemoveContactEmailResultAdapter(gson);
+                case "RemoveFriendRequest": return (TypeAdapter<T>) new RemoveFriendRequestAdapter(gson);
+                case "RemoveFriendResult": return (TypeAdapter<T>) new RemoveFriendResultAdapter(gson);
+                case "RemoveGenericIDRequest": return (TypeAdapter<T>) new RemoveGenericIDRequestAdapter(gson);
+                case "RemoveGenericIDResult": return (TypeAdapter<T>) new RemoveGenericIDResultAdapter(gson);
+                case "RemoveSharedGroupMembersRequest": return (TypeAdapter<T>) new RemoveSharedGroupMembersRequestAdapter(gson);
+                case "RemoveSharedGroupMembersResult": return (TypeAdapter<T>) new RemoveSharedGroupMembersResultAdapter(gson);
+                case "ReportAdActivityRequest": return (TypeAdapter<T>) new ReportAdActivityRequestAdapter(gson);
+                case "ReportAdActivityResult": return (TypeAdapter<T>) new ReportAdActivityResultAdapter(gson);
+                case "ReportPlayerClientRequest": return (TypeAdapter<T>) new ReportPlayerClientRequestAdapter(gson);
+                case "ReportPlayerClientResult": return (TypeAdapter<T>) new ReportPlayerClientResultAdapter(gson);
+                case "RestoreIOSPurchasesRequest": return (TypeAdapter<T>) new RestoreIOSPurchasesRequestAdapter(gson);
+                case "RestoreIOSPurchasesResult": return (TypeAdapter<T>) new RestoreIOSPurchasesResultAdapter(gson);
+                case "RewardAdActivityRequest": return (TypeAdapter<T>) new RewardAdActivityRequestAdapter(gson);
+                case "RewardAdActivityResult": return (TypeAdapter<T>) new RewardAdActivityResultAdapter(gson);
+                case "ScriptExecutionError": return (TypeAdapter<T>) new ScriptExecutionErrorAdapter(gson);
+                case "SendAccountRecoveryEmailRequest": return (TypeAdapter<T>) new SendAccountRecoveryEmailRequestAdapter(gson);
+                case "SendAccountRecoveryEmailResult": return (TypeAdapter<T>) new SendAccountRecoveryEmailResultAdapter(gson);
+                case "SetFriendTagsRequest": return (TypeAdapter<T>) new SetFriendTagsRequestAdapter(gson);
+                case "SetFriendTagsResult": return (TypeAdapter<T>) new SetFriendTagsResultAdapter(gson);
+                case "SetPlayerSecretRequest": return (TypeAdapter<T>) new SetPlayerSecretRequestAdapter(gson);
+                case "SetPlayerSecretResult": return (TypeAdapter<T>) new SetPlayerSecretResultAdapter(gson);
+                case "SharedGroupDataRecord": return (TypeAdapter<T>) new SharedGroupDataRecordAdapter(gson);
+                case "StartGameRequest": return (TypeAdapter<T>) new StartGameRequestAdapter(gson);
+                case "StartGameResult": return (TypeAdapter<T>) new StartGameResultAdapter(gson);
+                case "StartPurchaseRequest": return (TypeAdapter<T>) new StartPurchaseRequestAdapter(gson);
+                case "StartPurchaseResult": return (TypeAdapter<T>) new StartPurchaseResultAdapter(gson);
+                case "StatisticModel": return (TypeAdapter<T>) new StatisticModelAdapter(gson);
+                case "StatisticNameVersion": return (TypeAdapter<T>) new StatisticNameVersionAdapter(gson);
+                case "StatisticUpdate": return (TypeAdapter<T>) new StatisticUpdateAdapter(gson);
+                case "StatisticValue": return (TypeAdapter<T>) new StatisticValueAdapter(gson);
+                case "SteamPlayFabIdPair": return (TypeAdapter<T>) new SteamPlayFabIdPairAdapter(gson);
+                case "StoreItem": return (TypeAdapter<T>) new StoreItemAdapter(gson);
+                case "StoreMarketingModel": return (TypeAdapter<T>) new StoreMarketingModelAdapter(gson);
+                case "SubscriptionModel": return (TypeAdapter<T>) new SubscriptionModelAdapter(gson);
+                case "SubtractUserVirtualCurrencyRequest": return (TypeAdapter<T>) new SubtractUserVirtualCurrencyRequestAdapter(gson);
+                case "TagModel": return (TypeAdapter<T>) new TagModelAdapter(gson);
+                case "TitleNewsItem": return (TypeAdapter<T>) new TitleNewsItemAdapter(gson);
+                case "TradeInfo": return (TypeAdapter<T>) new TradeInfoAdapter(gson);
+                case "TreatmentAssignment": return (TypeAdapter<T>) new TreatmentAssignmentAdapter(gson);
+                case "TwitchPlayFabIdPair": return (TypeAdapter<T>) new TwitchPlayFabIdPairAdapter(gson);
+                case "UnlinkAndroidDeviceIDRequest": return (TypeAdapter<T>) new UnlinkAndroidDeviceIDRequestAdapter(gson);
+                case "UnlinkAndroidDeviceIDResult": return (TypeAdapter<T>) new UnlinkAndroidDeviceIDResultAdapter(gson);
+                case "UnlinkAppleRequest": return (TypeAdapter<T>) new UnlinkAppleRequestAdapter(gson);
+                case "UnlinkCustomIDRequest": return (TypeAdapter<T>) new UnlinkCustomIDRequestAdapter(gson);
+                case "UnlinkCustomIDResult": return (TypeAdapter<T>) new UnlinkCustomIDResultAdapter(gson);
+                case "UnlinkFacebookAccountRequest": return (TypeAdapter<T>) new UnlinkFacebookAccountRequestAdapter(gson);
+                case "UnlinkFacebookAccountResult": return (TypeAdapter<T>) new UnlinkFacebookAccountResultAdapter(gson);
+                case "UnlinkFacebookInstantGamesIdRequest": return (TypeAdapter<T>) new UnlinkFacebookInstantGamesIdRequestAdapter(gson);
+                case "UnlinkFacebookInstantGamesIdResult": return (TypeAdapter<T>) new UnlinkFacebookInstantGamesIdResultAdapter(gson);
+                case "UnlinkGameCenterAccountRequest": return (TypeAdapter<T>) new UnlinkGameCenterAccountRequestAdapter(gson);
+                case "UnlinkGameCenterAccountResult": return (TypeAdapter<T>) new UnlinkGameCenterAccountResultAdapter(gson);
+                case "UnlinkGoogleAccountRequest": return (TypeAdapter<T>) new UnlinkGoogleAccountRequestAdapter(gson);
+                case "UnlinkGoogleAccountResult": return (TypeAdapter<T>) new UnlinkGoogleAccountResultAdapter(gson);
+                case "UnlinkIOSDeviceIDRequest": return (TypeAdapter<T>) new UnlinkIOSDeviceIDRequestAdapter(gson);
+                case "UnlinkIOSDeviceIDResult": return (TypeAdapter<T>) new UnlinkIOSDeviceIDResultAdapter(gson);
+                case "UnlinkKongregateAccountRequest": return (TypeAdapter<T>) new UnlinkKongregateAccountRequestAdapter(gson);
+                case "UnlinkKongregateAccountResult": return (TypeAdapter<T>) new UnlinkKongregateAccountResultAdapter(gson);
+                case "UnlinkNintendoServiceAccountRequest": return (TypeAdapter<T>) new UnlinkNintendoServiceAccountRequestAdapter(gson);
+                case "UnlinkNintendoSwitchDeviceIdRequest": return (TypeAdapter<T>) new UnlinkNintendoSwitchDeviceIdRequestAdapter(gson);
+                case "UnlinkNintendoSwitchDeviceIdResult": return (TypeAdapter<T>) new UnlinkNintendoSwitchDeviceIdResultAdapter(gson);
+                case "UnlinkOpenIdConnectRequest": return (TypeAdapter<T>) new UnlinkOpenIdConnectRequestAdapter(gson);
+                case "UnlinkPSNAccountRequest": return (TypeAdapter<T>) new UnlinkPSNAccountRequestAdapter(gson);
+                case "UnlinkPSNAccountResult": return (TypeAdapter<T>) new UnlinkPSNAccountResultAdapter(gson);
+                case "UnlinkSteamAccountRequest": return (TypeAdapter<T>) new UnlinkSteamAccountRequestAdapter(gson);
+                case "UnlinkSteamAccountResult": return (TypeAdapter<T>) new UnlinkSteamAccountResultAdapter(gson);
+                case "UnlinkTwitchAccountRequest": return (TypeAdapter<T>) new UnlinkTwitchAccountRequestAdapter(gson);
+                case "UnlinkTwitchAccountResult": return (TypeAdapter<T>) new UnlinkTwitchAccountResultAdapter(gson);
+                case "UnlinkXboxAccountRequest": return (TypeAdapter<T>) new UnlinkXboxAccountRequestAdapter(gson);
+                case "UnlinkXboxAccountResult": return (TypeAdapter<T>) new UnlinkXboxAccountResultAdapter(gson);
+                case "UnlockContainerInstanceRequest": return (TypeAdapter<T>) new UnlockContainerInstanceRequestAdapter(gson);
+                case "UnlockContainerItemRequest": return (TypeAdapter<T>) new UnlockContainerItemRequestAdapter(gson);
+                case "UnlockContainerItemResult": return (TypeAdapter<T>) new UnlockContainerItemResultAdapter(gson);
+                case "UpdateAvatarUrlRequest": return (TypeAdapter<T>) new UpdateAvatarUrlRequestAdapter(gson);
+                case "UpdateCharacterDataRequest": return (TypeAdapter<T>) new UpdateCharacterDataRequestAdapter(gson);
+                case "UpdateCharacterDataResult": return (TypeAdapter<T>) new UpdateCharacterDataResultAdapter(gson);
+                case "UpdateCharacterStatisticsRequest": return (TypeAdapter<T>) new UpdateCharacterStatisticsRequestAdapter(gson);
+                case "UpdateCharacterStatisticsResult": return (TypeAdapter<T>) new UpdateCharacterStatisticsResultAdapter(gson);
+                case "UpdatePlayerStatisticsRequest": return (TypeAdapter<T>) new UpdatePlayerStatisticsRequestAdapter(gson);
+                case "UpdatePlayerStatisticsResult": return (TypeAdapter<T>) new UpdatePlayerStatisticsResultAdapter(gson);
+                case "UpdateSharedGroupDataRequest": return (TypeAdapter<T>) new UpdateSharedGroupDataRequestAdapter(gson);
+                case "UpdateSharedGroupDataResult": return (TypeAdapter<T>) new UpdateSharedGroupDataResultAdapter(gson);
+                case "UpdateUserDataRequest": return (TypeAdapter<T>) new UpdateUserDataRequestAdapter(gson);
+                case "UpdateUserDataResult": return (TypeAdapter<T>) new UpdateUserDataResultAdapter(gson);
+                case "UpdateUserTitleDisplayNameRequest": return (TypeAdapter<T>) new UpdateUserTitleDisplayNameRequestAdapter(gson);
+                case "UpdateUserTitleDisplayNameResult": return (TypeAdapter<T>) new UpdateUserTitleDisplayNameResultAdapter(gson);
+                case "UserAccountInfo": return (TypeAdapter<T>) new UserAccountInfoAdapter(gson);
+                case "UserAndroidDeviceInfo": return (TypeAdapter<T>) new UserAndroidDeviceInfoAdapter(gson);
+                case "UserAppleIdInfo": return (TypeAdapter<T>) new UserAppleIdInfoAdapter(gson);
+                case "UserCustomIdInfo": return (TypeAdapter<T>) new UserCustomIdInfoAdapter(gson);
+                case "UserDataRecord": return (TypeAdapter<T>) new UserDataRecordAdapter(gson);
+                case "UserFacebookInfo": return (TypeAdapter<T>) new UserFacebookInfoAdapter(gson);
+                case "UserFacebookInstantGamesIdInfo": return (TypeAdapter<T>) new UserFacebookInstantGamesIdInfoAdapter(gson);
+                case "UserGameCenterInfo": return (TypeAdapter<T>) new UserGameCenterInfoAdapter(gson);
+                case "UserGoogleInfo": return (TypeAdapter<T>) new UserGoogleInfoAdapter(gson);
+                case "UserIosDeviceInfo": return (TypeAdapter<T>) new UserIosDeviceInfoAdapter(gson);
+                case "UserKongregateInfo": return (TypeAdapter<T>) new UserKongregateInfoAdapter(gson);
+                case "UserNintendoSwitchAccountIdInfo": return (TypeAdapter<T>) new UserNintendoSwitchAccountIdInfoAdapter(gson);
+                case "UserNintendoSwitchDeviceIdInfo": return (TypeAdapter<T>) new UserNintendoSwitchDeviceIdInfoAdapter(gson);
+                case "UserOpenIdInfo": return (TypeAdapter<T>) new UserOpenIdInfoAdapter(gson);
+                case "UserPrivateAccountInfo": return (TypeAdapter<T>) new UserPrivateAccountInfoAdapter(gson);
+                case "UserPsnInfo": return (TypeAdapter<T>) new UserPsnInfoAdapter(gson);
+                case "UserSettings": return (TypeAdapter<T>) new UserSettingsAdapter(gson);
+                case "UserSteamInfo": return (TypeAdapter<T>) new UserSteamInfoAdapter(gson);
+                case "UserTitleInfo": return (TypeAdapter<T>) new UserTitleInfoAdapter(gson);
+                case "UserTwitchInfo": return (TypeAdapter<T>) new UserTwitchInfoAdapter(gson);
+                case "UserXboxInfo": return (TypeAdapter<T>) new UserXboxInfoAdapter(gson);
+                case "ValidateAmazonReceiptRequest": return (TypeAdapter<T>) new ValidateAmazonReceiptRequestAdapter(gson);
+                case "ValidateAmazonReceiptResult": return (TypeAdapter<T>) new ValidateAmazonReceiptResultAdapter(gson);
+                case "ValidateGooglePlayPurchaseRequest": return (TypeAdapter<T>) new ValidateGooglePlayPurchaseRequestAdapter(gson);
+                case "ValidateGooglePlayPurchaseResult": return (TypeAdapter<T>) new ValidateGooglePlayPurchaseResultAdapter(gson);
+                case "ValidateIOSReceiptRequest": return (TypeAdapter<T>) new ValidateIOSReceiptRequestAdapter(gson);
+                case "ValidateIOSReceiptResult": return (TypeAdapter<T>) new ValidateIOSReceiptResultAdapter(gson);
+                case "ValidateWindowsReceiptRequest": return (TypeAdapter<T>) new ValidateWindowsReceiptRequestAdapter(gson);
+                case "ValidateWindowsReceiptResult": return (TypeAdapter<T>) new ValidateWindowsReceiptResultAdapter(gson);
+                case "ValueToDateModel": return (TypeAdapter<T>) new ValueToDateModelAdapter(gson);
+                case "Variable": return (TypeAdapter<T>) new VariableAdapter(gson);
+                case "VirtualCurrencyRechargeTime": return (TypeAdapter<T>) new VirtualCurrencyRechargeTimeAdapter(gson);
+                case "WriteClientCharacterEventRequest": return (TypeAdapter<T>) new WriteClientCharacterEventRequestAdapter(gson);
+                case "WriteClientPlayerEventRequest": return (TypeAdapter<T>) new WriteClientPlayerEventRequestAdapter(gson);
+                case "WriteEventResponse": return (TypeAdapter<T>) new WriteEventResponseAdapter(gson);
+                case "WriteTitleEventRequest": return (TypeAdapter<T>) new WriteTitleEventRequestAdapter(gson);
+                case "XboxLiveAccountPlayFabIdPair": return (TypeAdapter<T>) new XboxLiveAccountPlayFabIdPairAdapter(gson);
+                default: return null;
+            }
+        }
+    };
+
+    private static class AcceptTradeRequestAdapter extends TypeAdapter<AcceptTradeRequest> {
+        private final TypeAdapter<String> stringAdapter;
+
+        private AcceptTradeRequestAdapter(Gson gson) {
+            stringAdapter = gson.getAdapter(String.class);
+        }
+
+        @Override
+        public void write(JsonWriter out, AcceptTradeRequest value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            PlayFabJson.writeList(out.name("AcceptedInventoryInstanceIds"), value.AcceptedInventoryInstanceIds, stringAdapter);
+            out.name("OfferingPlayerId").value(value.OfferingPlayerId);
+            out.name("TradeId").value(value.TradeId);
+            out.endObject();
+        }
+
+        @Override
+        public AcceptTradeRequest read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            AcceptTradeRequest value = new AcceptTradeRequest();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "AcceptedInventoryInstanceIds": value.AcceptedInventoryInstanceIds = PlayFabJson.readList(in, stringAdapter); break;
+                        case "OfferingPlayerId": value.OfferingPlayerId = PlayFabJson.readString(in); break;
+                        case "TradeId": value.TradeId = PlayFabJson.readString(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class AcceptTradeResponseAdapter extends TypeAdapter<AcceptTradeResponse> {
+        private final TypeAdapter<TradeInfo> tradeInfoAdapter;
+
+        private AcceptTradeResponseAdapter(Gson gson) {
+            tradeInfoAdapter = gson.getAdapter(TradeInfo.class);
+        }
+
+        @Override
+        public void write(JsonWriter out, AcceptTradeResponse value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            tradeInfoAdapter.write(out.name("Trade"), value.Trade);
+            out.endObject();
+        }
+
+        @Override
+        public AcceptTradeResponse read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            AcceptTradeResponse value = new AcceptTradeResponse();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "Trade": value.Trade = tradeInfoAdapter.read(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class AdCampaignAttributionModelAdapter extends TypeAdapter<AdCampaignAttributionModel> {
+        private final TypeAdapter<Date> dateAdapter;
+
+        private AdCampaignAttributionModelAdapter(Gson gson) {
+            dateAdapter = gson.getAdapter(Date.class);
+        }
+
+        @Override
+        public void write(JsonWriter out, AdCampaignAttributionModel value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            dateAdapter.write(out.name("AttributedAt"), value.AttributedAt);
+            out.name("CampaignId").value(value.CampaignId);
+            out.name("Platform").value(value.Platform);
+            out.endObject();
+        }
+
+        @Override
+        public AdCampaignAttributionModel read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            AdCampaignAttributionModel value = new AdCampaignAttributionModel();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "AttributedAt": value.AttributedAt = dateAdapter.read(in); break;
+                        case "CampaignId": value.CampaignId = PlayFabJson.readString(in); break;
+                        case "Platform": value.Platform = PlayFabJson.readString(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class AddFriendRequestAdapter extends TypeAdapter<AddFriendRequest> {
+        private AddFriendRequestAdapter(Gson gson) {
+        }
+
+        @Override
+        public void write(JsonWriter out, AddFriendRequest value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.name("FriendEmail").value(value.FriendEmail);
+            out.name("FriendPlayFabId").value(value.FriendPlayFabId);
+            out.name("FriendTitleDisplayName").value(value.FriendTitleDisplayName);
+            out.name("FriendUsername").value(value.FriendUsername);
+            out.endObject();
+        }
+
+        @Override
+        public AddFriendRequest read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            AddFriendRequest value = new AddFriendRequest();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "FriendEmail": value.FriendEmail = PlayFabJson.readString(in); break;
+                        case "FriendPlayFabId": value.FriendPlayFabId = PlayFabJson.readString(in); break;
+                        case "FriendTitleDisplayName": value.FriendTitleDisplayName = PlayFabJson.readString(in); break;
+                        case "FriendUsername": value.FriendUsername = PlayFabJson.readString(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class AddFriendResultAdapter extends TypeAdapter<AddFriendResult> {
+        private AddFriendResultAdapter(Gson gson) {
+        }
+
+        @Override
+        public void write(JsonWriter out, AddFriendResult value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.name("Created").value(value.Created);
+            out.endObject();
+        }
+
+        @Override
+        public AddFriendResult read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            AddFriendResult value = new AddFriendResult();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "Created": value.Created = PlayFabJson.readBoolean(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class AddGenericIDRequestAdapter extends TypeAdapter<AddGenericIDRequest> {
+        private final TypeAdapter<GenericServiceId> genericServiceIdAdapter;
+
+        private AddGenericIDRequestAdapter(Gson gson) {
+            genericServiceIdAdapter = gson.getAdapter(GenericServiceId.class);
+        }
+
+        @Override
+        public void write(JsonWriter out, AddGenericIDRequest value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            genericServiceIdAdapter.write(out.name("GenericId"), value.GenericId);
+            out.endObject();
+        }
+
+        @Override
+        public AddGenericIDRequest read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            AddGenericIDRequest value = new AddGenericIDRequest();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "GenericId": value.GenericId = genericServiceIdAdapter.read(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class AddGenericIDResultAdapter extends TypeAdapter<AddGenericIDResult> {
+        private AddGenericIDResultAdapter(Gson gson) {
+        }
+
+        @Override
+        public void write(JsonWriter out, AddGenericIDResult value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.endObject();
+        }
+
+        @Override
+        public AddGenericIDResult read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            AddGenericIDResult value = new AddGenericIDResult();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class AddOrUpdateContactEmailRequestAdapter extends TypeAdapter<AddOrUpdateContactEmailRequest> {
+        private final TypeAdapter<String> stringAdapter;
+
+        private AddOrUpdateContactEmailRequestAdapter(Gson gson) {
+            stringAdapter = gson.getAdapter(String.class);
+        }
+
+        @Override
+        public void write(JsonWriter out, AddOrUpdateContactEmailRequest value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            PlayFabJson.writeMap(out.name("CustomTags"), value.CustomTags, stringAdapter);
+            out.name("EmailAddress").value(value.EmailAddress);
+            out.endObject();
+        }
+
+        @Override
+        public AddOrUpdateContactEmailRequest read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            AddOrUpdateContactEmailRequest value = new AddOrUpdateContactEmailRequest();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "CustomTags": value.CustomTags = PlayFabJson.readMap(in, stringAdapter); break;
+                        case "EmailAddress": value.EmailAddress = PlayFabJson.readString(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class AddOrUpdateContactEmailResultAdapter extends TypeAdapter<AddOrUpdateContactEmailResult> {
+        private AddOrUpdateContactEmailResultAdapter(Gson gson) {
+        }
+
+        @Override
+        public void write(JsonWriter out, AddOrUpdateContactEmailResult value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.endObject();
+        }
+
+        @Override
+        public AddOrUpdateContactEmailResult read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            AddOrUpdateContactEmailResult value = new AddOrUpdateContactEmailResult();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class AddSharedGroupMembersRequestAdapter extends TypeAdapter<AddSharedGroupMembersRequest> {
+        private final TypeAdapter<String> stringAdapter;
+
+        private AddSharedGroupMembersRequestAdapter(Gson gson) {
+            stringAdapter = gson.getAdapter(String.class);
+        }
+
+        @Override
+        public void write(JsonWriter out, AddSharedGroupMembersRequest value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            PlayFabJson.writeList(out.name("PlayFabIds"), value.PlayFabIds, stringAdapter);
+            out.name("SharedGroupId").value(value.SharedGroupId);
+            out.endObject();
+        }
+
+        @Override
+        public AddSharedGroupMembersRequest read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            AddSharedGroupMembersRequest value = new AddSharedGroupMembersRequest();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "PlayFabIds": value.PlayFabIds = PlayFabJson.readList(in, stringAdapter); break;
+                        case "SharedGroupId": value.SharedGroupId = PlayFabJson.readString(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class AddSharedGroupMembersResultAdapter extends TypeAdapter<AddSharedGroupMembersResult> {
+        private AddSharedGroupMembersResultAdapter(Gson gson) {
+        }
+
+        @Override
+        public void write(JsonWriter out, AddSharedGroupMembersResult value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.endObject();
+        }
+
+        @Override
+        public AddSharedGroupMembersResult read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            AddSharedGroupMembersResult value = new AddSharedGroupMembersResult();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class AddUsernamePasswordRequestAdapter extends TypeAdapter<AddUsernamePasswordRequest> {
+        private final TypeAdapter<String> stringAdapter;
+
+        private AddUsernamePasswordRequestAdapter(Gson gson) {
+            stringAdapter = gson.getAdapter(String.class);
+        }
+
+        @Override
+        public void write(JsonWriter out, AddUsernamePasswordRequest value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            PlayFabJson.writeMap(out.name("CustomTags"), value.CustomTags, stringAdapter);
+            out.name("Email").value(value.Email);
+            out.name("Password").value(value.Password);
+            out.name("Username").value(value.Username);
+            out.endObject();
+        }
+
+        @Override
+        public AddUsernamePasswordRequest read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            AddUsernamePasswordRequest value = new AddUsernamePasswordRequest();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "CustomTags": value.CustomTags = PlayFabJson.readMap(in, stringAdapter); break;
+                        case "Email": value.Email = PlayFabJson.readString(in); break;
+                        case "Password": value.Password = PlayFabJson.readString(in); break;
+                        case "Username": value.Username = PlayFabJson.readString(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class AddUsernamePasswordResultAdapter extends TypeAdapter<AddUsernamePasswordResult> {
+        private AddUsernamePasswordResultAdapter(Gson gson) {
+        }
+
+        @Override
+        public void write(JsonWriter out, AddUsernamePasswordResult value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.name("Username").value(value.Username);
+            out.endObject();
+        }
+
+        @Override
+        public AddUsernamePasswordResult read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            AddUsernamePasswordResult value = new AddUsernamePasswordResult();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "Username": value.Username = PlayFabJson.readString(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class AddUserVirtualCurrencyRequestAdapter extends TypeAdapter<AddUserVirtualCurrencyRequest> {
+        private final TypeAdapter<String> stringAdapter;
+
+        private AddUserVirtualCurrencyRequestAdapter(Gson gson) {
+            stringAdapter = gson.getAdapter(String.class);
+        }
+
+        @Override
+        public void write(JsonWriter out, AddUserVirtualCurrencyRequest value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.name("Amount").value(value.Amount);
+            PlayFabJson.writeMap(out.name("CustomTags"), value.CustomTags, stringAdapter);
+            out.name("VirtualCurrency").value(value.VirtualCurrency);
+            out.endObject();
+        }
+
+        @Override
+        public AddUserVirtualCurrencyRequest read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            AddUserVirtualCurrencyRequest value = new AddUserVirtualCurrencyRequest();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "Amount": value.Amount = PlayFabJson.readInteger(in); break;
+                        case "CustomTags": value.CustomTags = PlayFabJson.readMap(in, stringAdapter); break;
+                        case "VirtualCurrency": value.VirtualCurrency = PlayFabJson.readString(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class AdPlacementDetailsAdapter extends TypeAdapter<AdPlacementDetails> {
+        private final TypeAdapter<Double> doubleAdapter;
+
+        private AdPlacementDetailsAdapter(Gson gson) {
+            doubleAdapter = gson.getAdapter(Double.class);
+        }
+
+        @Override
+        public void write(JsonWriter out, AdPlacementDetails value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.name("PlacementId").value(value.PlacementId);
+            out.name("PlacementName").value(value.PlacementName);
+            out.name("PlacementViewsRemaining").value(value.PlacementViewsRemaining);
+            doubleAdapter.write(out.name("PlacementViewsResetMinutes"), value.PlacementViewsResetMinutes);
+            out.name("RewardAssetUrl").value(value.RewardAssetUrl);
+            out.name("RewardDescription").value(value.RewardDescription);
+            out.name("RewardId").value(value.RewardId);
+            out.name("RewardName").value(value.RewardName);
+            out.endObject();
+        }
+
+        @Override
+        public AdPlacementDetails read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            AdPlacementDetails value = new AdPlacementDetails();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "PlacementId": value.PlacementId = PlayFabJson.readString(in); break;
+                        case "PlacementName": value.PlacementName = PlayFabJson.readString(in); break;
+                        case "PlacementViewsRemaining": value.PlacementViewsRemaining = PlayFabJson.readInteger(in); break;
+                        case "PlacementViewsResetMinutes": value.PlacementViewsResetMinutes = doubleAdapter.read(in); break;
+                        case "RewardAssetUrl": value.RewardAssetUrl = PlayFabJson.readString(in); break;
+                        case "RewardDescription": value.RewardDescription = PlayFabJson.readString(in); break;
+                        case "RewardId": value.RewardId = PlayFabJson.readString(in); break;
+                        case "RewardName": value.RewardName = PlayFabJson.readString(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class AdRewardItemGrantedAdapter extends TypeAdapter<AdRewardItemGranted> {
+        private AdRewardItemGrantedAdapter(Gson gson) {
+        }
+
+        @Override
+        public void write(JsonWriter out, AdRewardItemGranted value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.name("CatalogId").value(value.CatalogId);
+            out.name("DisplayName").value(value.DisplayName);
+            out.name("InstanceId").value(value.InstanceId);
+            out.name("ItemId").value(value.ItemId);
+            out.endObject();
+        }
+
+        @Override
+        public AdRewardItemGranted read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            AdRewardItemGranted value = new AdRewardItemGranted();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "CatalogId": value.CatalogId = PlayFabJson.readString(in); break;
+                        case "DisplayName": value.DisplayName = PlayFabJson.readString(in); break;
+                        case "InstanceId": value.InstanceId = PlayFabJson.readString(in); break;
+                        case "ItemId": value.ItemId = PlayFabJson.readString(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class AdRewardResultsAdapter extends TypeAdapter<AdRewardResults> {
+        private final TypeAdapter<AdRewardItemGranted> adRewardItemGrantedAdapter;
+        private final TypeAdapter<Integer> integerAdapter;
+
+        private AdRewardResultsAdapter(Gson gson) {
+            adRewardItemGrantedAdapter = gson.getAdapter(AdRewardItemGranted.class);
+            integerAdapter = gson.getAdapter(Integer.class);
+        }
+
+        @Override
+        public void write(JsonWriter out, AdRewardResults value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            PlayFabJson.writeList(out.name("GrantedItems"), value.GrantedItems, adRewardItemGrantedAdapter);
+            PlayFabJson.writeMap(out.name("GrantedVirtualCurrencies"), value.GrantedVirtualCurrencies, integerAdapter);
+            PlayFabJson.writeMap(out.name("IncrementedStatistics"), value.IncrementedStatistics, integerAdapter);
+            out.endObject();
+        }
+
+        @Override
+        public AdRewardResults read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            AdRewardResults value = new AdRewardResults();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "GrantedItems": value.GrantedItems = PlayFabJson.readList(in, adRewardItemGrantedAdapter); break;
+                        case "GrantedVirtualCurrencies": value.GrantedVirtualCurrencies = PlayFabJson.readMap(in, integerAdapter); break;
+                        case "IncrementedStatistics": value.IncrementedStatistics = PlayFabJson.readMap(in, integerAdapter); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class AndroidDevicePushNotificationRegistrationRequestAdapter extends TypeAdapter<AndroidDevicePushNotificationRegistrationRequest> {
+        private AndroidDevicePushNotificationRegistrationRequestAdapter(Gson gson) {
+        }
+
+        @Override
+        public void write(JsonWriter out, AndroidDevicePushNotificationRegistrationRequest value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.name("ConfirmationMessage").value(value.ConfirmationMessage);
+            out.name("DeviceToken").value(value.DeviceToken);
+            out.name("SendPushNotificationConfirmation").value(value.SendPushNotificationConfirmation);
+            out.endObject();
+        }
+
+        @Override
+        public AndroidDevicePushNotificationRegistrationRequest read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            AndroidDevicePushNotificationRegistrationRequest value = new AndroidDevicePushNotificationRegistrationRequest();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "ConfirmationMessage": value.ConfirmationMessage = PlayFabJson.readString(in); break;
+                        case "DeviceToken": value.DeviceToken = PlayFabJson.readString(in); break;
+                        case "SendPushNotificationConfirmation": value.SendPushNotificationConfirmation = PlayFabJson.readBoolean(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class AndroidDevicePushNotificationRegistrationResultAdapter extends TypeAdapter<AndroidDevicePushNotificationRegistrationResult> {
+        private AndroidDevicePushNotificationRegistrationResultAdapter(Gson gson) {
+        }
+
+        @Override
+        public void write(JsonWriter out, AndroidDevicePushNotificationRegistrationResult value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.endObject();
+        }
+
+        @Override
+        public AndroidDevicePushNotificationRegistrationResult read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            AndroidDevicePushNotificationRegistrationResult value = new AndroidDevicePushNotificationRegistrationResult();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class AttributeInstallRequestAdapter extends TypeAdapter<AttributeInstallRequest> {
+        private AttributeInstallRequestAdapter(Gson gson) {
+        }
+
+        @Override
+        public void write(JsonWriter out, AttributeInstallRequest value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.name("Adid").value(value.Adid);
+            out.name("Idfa").value(value.Idfa);
+            out.endObject();
+        }
+
+        @Override
+        public AttributeInstallRequest read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            AttributeInstallRequest value = new AttributeInstallRequest();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "Adid": value.Adid = PlayFabJson.readString(in); break;
+                        case "Idfa": value.Idfa = PlayFabJson.readString(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class AttributeInstallResultAdapter extends TypeAdapter<AttributeInstallResult> {
+        private AttributeInstallResultAdapter(Gson gson) {
+        }
+
+        @Override
+        public void write(JsonWriter out, AttributeInstallResult value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.endObject();
+        }
+
+        @Override
+        public AttributeInstallResult read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            AttributeInstallResult value = new AttributeInstallResult();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class CancelTradeRequestAdapter extends TypeAdapter<CancelTradeRequest> {
+        private CancelTradeRequestAdapter(Gson gson) {
+        }
+
+        @Override
+        public void write(JsonWriter out, CancelTradeRequest value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.name("TradeId").value(value.TradeId);
+            out.endObject();
+        }
+
+        @Override
+        public CancelTradeRequest read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            CancelTradeRequest value = new CancelTradeRequest();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "TradeId": value.TradeId = PlayFabJson.readString(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class CancelTradeResponseAdapter extends TypeAdapter<CancelTradeResponse> {
+        private final TypeAdapter<TradeInfo> tradeInfoAdapter;
+
+        private CancelTradeResponseAdapter(Gson gson) {
+            tradeInfoAdapter = gson.getAdapter(TradeInfo.class);
+        }
+
+        @Override
+        public void write(JsonWriter out, CancelTradeResponse value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            tradeInfoAdapter.write(out.name("Trade"), value.Trade);
+            out.endObject();
+        }
+
+        @Override
+        public CancelTradeResponse read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            CancelTradeResponse value = new CancelTradeResponse();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "Trade": value.Trade = tradeInfoAdapter.read(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class CartItemAdapter extends TypeAdapter<CartItem> {
+        private final TypeAdapter<Long> longAdapter;
+
+        private CartItemAdapter(Gson gson) {
+            longAdapter = gson.getAdapter(Long.class);
+        }
+
+        @Override
+        public void write(JsonWriter out, CartItem value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.name("Description").value(value.Description);
+            out.name("DisplayName").value(value.DisplayName);
+            out.name("ItemClass").value(value.ItemClass);
+            out.name("ItemId").value(value.ItemId);
+            out.name("ItemInstanceId").value(value.ItemInstanceId);
+            PlayFabJson.writeMap(out.name("RealCurrencyPrices"), value.RealCurrencyPrices, longAdapter);
+            PlayFabJson.writeMap(out.name("VCAmount"), value.VCAmount, longAdapter);
+            PlayFabJson.writeMap(out.name("VirtualCurrencyPrices"), value.VirtualCurrencyPrices, longAdapter);
+            out.endObject();
+        }
+
+        @Override
+        public CartItem read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            CartItem value = new CartItem();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "Description": value.Description = PlayFabJson.readString(in); break;
+                        case "DisplayName": value.DisplayName = PlayFabJson.readString(in); break;
+                        case "ItemClass": value.ItemClass = PlayFabJson.readString(in); break;
+                        case "ItemId": value.ItemId = PlayFabJson.readString(in); break;
+                        case "ItemInstanceId": value.ItemInstanceId = PlayFabJson.readString(in); break;
+                        case "RealCurrencyPrices": value.RealCurrencyPrices = PlayFabJson.readMap(in, longAdapter); break;
+                        case "VCAmount": value.VCAmount = PlayFabJson.readMap(in, longAdapter); break;
+                        case "VirtualCurrencyPrices": value.VirtualCurrencyPrices = PlayFabJson.readMap(in, longAdapter); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class CatalogItemAdapter extends TypeAdapter<CatalogItem> {
+        private final TypeAdapter<CatalogItemBundleInfo> catalogItemBundleInfoAdapter;
+        private final TypeAdapter<CatalogItemConsumableInfo> catalogItemConsumableInfoAdapter;
+        private final TypeAdapter<CatalogItemContainerInfo> catalogItemContainerInfoAdapter;
+        private final TypeAdapter<Long> longAdapter;
+        private final TypeAdapter<String> stringAdapter;
+
+        private CatalogItemAdapter(Gson gson) {
+            catalogItemBundleInfoAdapter = gson.getAdapter(CatalogItemBundleInfo.class);
+            catalogItemConsumableInfoAdapter = gson.getAdapter(CatalogItemConsumableInfo.class);
+            catalogItemContainerInfoAdapter = gson.getAdapter(CatalogItemContainerInfo.class);
+            longAdapter = gson.getAdapter(Long.class);
+            stringAdapter = gson.getAdapter(String.class);
+        }
+
+        @Override
+        public void write(JsonWriter out, CatalogItem value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            catalogItemBundleInfoAdapter.write(out.name("Bundle"), value.Bundle);
+            out.name("CanBecomeCharacter").value(value.CanBecomeCharacter);
+            out.name("CatalogVersion").value(value.CatalogVersion);
+            catalogItemConsumableInfoAdapter.write(out.name("Consumable"), value.Consumable);
+            catalogItemContainerInfoAdapter.write(out.name("Container"), value.Container);
+            out.name("CustomData").value(value.CustomData);
+            out.name("Description").value(value.Description);
+            out.name("DisplayName").value(value.DisplayName);
+            out.name("InitialLimitedEditionCount").value(value.InitialLimitedEditionCount);
+            out.name("IsLimitedEdition").value(value.IsLimitedEdition);
+            out.name("IsStackable").value(value.IsStackable);
+            out.name("IsTradable").value(value.IsTradable);
+            out.name("ItemClass").value(value.ItemClass);
+            out.name("ItemId").value(value.ItemId);
+            out.name("ItemImageUrl").value(value.ItemImageUrl);
+            PlayFabJson.writeMap(out.name("RealCurrencyPrices"), value.RealCurrencyPrices, longAdapter);
+            PlayFabJson.writeList(out.name("Tags"), value.Tags, stringAdapter);
+            PlayFabJson.writeMap(out.name("VirtualCurrencyPrices"), value.VirtualCurrencyPrices, longAdapter);
+            out.endObject();
+        }
+
+        @Override
+        public CatalogItem read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            CatalogItem value = new CatalogItem();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "Bundle": value.Bundle = catalogItemBundleInfoAdapter.read(in); break;
+                        case "CanBecomeCharacter": value.CanBecomeCharacter = PlayFabJson.readBoolean(in); break;
+                        case "CatalogVersion": value.CatalogVersion = PlayFabJson.readString(in); break;
+                        case "Consumable": value.Consumable = catalogItemConsumableInfoAdapter.read(in); break;
+                        case "Container": value.Container = catalogItemContainerInfoAdapter.read(in); break;
+                        case "CustomData": value.CustomData = PlayFabJson.readString(in); break;
+                        case "Description": value.Description = PlayFabJson.readString(in); break;
+                        case "DisplayName": value.DisplayName = PlayFabJson.readString(in); break;
+                        case "InitialLimitedEditionCount": value.InitialLimitedEditionCount = PlayFabJson.readInteger(in); break;
+                        case "IsLimitedEdition": value.IsLimitedEdition = PlayFabJson.readBoolean(in); break;
+                        case "IsStackable": value.IsStackable = PlayFabJson.readBoolean(in); break;
+                        case "IsTradable": value.IsTradable = PlayFabJson.readBoolean(in); break;
+                        case "ItemClass": value.ItemClass = PlayFabJson.readString(in); break;
+                        case "ItemId": value.ItemId = PlayFabJson.readString(in); break;
+                        case "ItemImageUrl": value.ItemImageUrl = PlayFabJson.readString(in); break;
+                        case "RealCurrencyPrices": value.RealCurrencyPrices = PlayFabJson.readMap(in, longAdapter); break;
+                        case "Tags": value.Tags = PlayFabJson.readList(in, stringAdapter); break;
+                        case "VirtualCurrencyPrices": value.VirtualCurrencyPrices = PlayFabJson.readMap(in, longAdapter); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class CatalogItemBundleInfoAdapter extends TypeAdapter<CatalogItemBundleInfo> {
+        private final TypeAdapter<String> stringAdapter;
+        private final TypeAdapter<Long> longAdapter;
+
+        private CatalogItemBundleInfoAdapter(Gson gson) {
+            stringAdapter = gson.getAdapter(String.class);
+            longAdapter = gson.getAdapter(Long.class);
+        }
+
+        @Override
+        public void write(JsonWriter out, CatalogItemBundleInfo value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            PlayFabJson.writeList(out.name("BundledItems"), value.BundledItems, stringAdapter);
+            PlayFabJson.writeList(out.name("BundledResultTables"), value.BundledResultTables, stringAdapter);
+            PlayFabJson.writeMap(out.name("BundledVirtualCurrencies"), value.BundledVirtualCurrencies, longAdapter);
+            out.endObject();
+        }
+
+        @Override
+        public CatalogItemBundleInfo read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            CatalogItemBundleInfo value = new CatalogItemBundleInfo();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "BundledItems": value.BundledItems = PlayFabJson.readList(in, stringAdapter); break;
+                        case "BundledResultTables": value.BundledResultTables = PlayFabJson.readList(in, stringAdapter); break;
+                        case "BundledVirtualCurrencies": value.BundledVirtualCurrencies = PlayFabJson.readMap(in, longAdapter); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class CatalogItemConsumableInfoAdapter extends TypeAdapter<CatalogItemConsumableInfo> {
+        private CatalogItemConsumableInfoAdapter(Gson gson) {
+        }
+
+        @Override
+        public void write(JsonWriter out, CatalogItemConsumableInfo value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.name("UsageCount").value(value.UsageCount);
+            out.name("UsagePeriod").value(value.UsagePeriod);
+            out.name("UsagePeriodGroup").value(value.UsagePeriodGroup);
+            out.endObject();
+        }
+
+        @Override
+        public CatalogItemConsumableInfo read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            CatalogItemConsumableInfo value = new CatalogItemConsumableInfo();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "UsageCount": value.UsageCount = PlayFabJson.readLong(in); break;
+                        case "UsagePeriod": value.UsagePeriod = PlayFabJson.readLong(in); break;
+                        case "UsagePeriodGroup": value.UsagePeriodGroup = PlayFabJson.readString(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class CatalogItemContainerInfoAdapter extends TypeAdapter<CatalogItemContainerInfo> {
+        private final TypeAdapter<String> stringAdapter;
+        private final TypeAdapter<Long> longAdapter;
+
+        private CatalogItemContainerInfoAdapter(Gson gson) {
+            stringAdapter = gson.getAdapter(String.class);
+            longAdapter = gson.getAdapter(Long.class);
+        }
+
+        @Override
+        public void write(JsonWriter out, CatalogItemContainerInfo value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            PlayFabJson.writeList(out.name("ItemContents"), value.ItemContents, stringAdapter);
+            out.name("KeyItemId").value(value.KeyItemId);
+            PlayFabJson.writeList(out.name("ResultTableContents"), value.ResultTableContents, stringAdapter);
+            PlayFabJson.writeMap(out.name("VirtualCurrencyContents"), value.VirtualCurrencyContents, longAdapter);
+            out.endObject();
+        }
+
+        @Override
+        public CatalogItemContainerInfo read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            CatalogItemContainerInfo value = new CatalogItemContainerInfo();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "ItemContents": value.ItemContents = PlayFabJson.readList(in, stringAdapter); break;
+                        case "KeyItemId": value.KeyItemId = PlayFabJson.readString(in); break;
+                        case "ResultTableContents": value.ResultTableContents = PlayFabJson.readList(in, stringAdapter); break;
+                        case "VirtualCurrencyContents": value.VirtualCurrencyContents = PlayFabJson.readMap(in, longAdapter); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class CharacterInventoryAdapter extends TypeAdapter<CharacterInventory> {
+        private final TypeAdapter<ItemInstance> itemInstanceAdapter;
+
+        private CharacterInventoryAdapter(Gson gson) {
+            itemInstanceAdapter = gson.getAdapter(ItemInstance.class);
+        }
+
+        @Override
+        public void write(JsonWriter out, CharacterInventory value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.name("CharacterId").value(value.CharacterId);
+            PlayFabJson.writeList(out.name("Inventory"), value.Inventory, itemInstanceAdapter);
+            out.endObject();
+        }
+
+        @Override
+        public CharacterInventory read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            CharacterInventory value = new CharacterInventory();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "CharacterId": value.CharacterId = PlayFabJson.readString(in); break;
+                        case "Inventory": value.Inventory = PlayFabJson.readList(in, itemInstanceAdapter); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class CharacterLeaderboardEntryAdapter extends TypeAdapter<CharacterLeaderboardEntry> {
+        private CharacterLeaderboardEntryAdapter(Gson gson) {
+        }
+
+        @Override
+        public void write(JsonWriter out, CharacterLeaderboardEntry value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.name("CharacterId").value(value.CharacterId);
+            out.name("CharacterName").value(value.CharacterName);
+            out.name("CharacterType").value(value.CharacterType);
+            out.name("DisplayName").value(value.DisplayName);
+            out.name("PlayFabId").value(value.PlayFabId);
+            out.name("Position").value(value.Position);
+            out.name("StatValue").value(value.StatValue);
+            out.endObject();
+        }
+
+        @Override
+        public CharacterLeaderboardEntry read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            CharacterLeaderboardEntry value = new CharacterLeaderboardEntry();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "CharacterId": value.CharacterId = PlayFabJson.readString(in); break;
+                        case "CharacterName": value.CharacterName = PlayFabJson.readString(in); break;
+                        case "CharacterType": value.CharacterType = PlayFabJson.readString(in); break;
+                        case "DisplayName": value.DisplayName = PlayFabJson.readString(in); break;
+                        case "PlayFabId": value.PlayFabId = PlayFabJson.readString(in); break;
+                        case "Position": value.Position = PlayFabJson.readInteger(in); break;
+                        case "StatValue": value.StatValue = PlayFabJson.readInteger(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class CharacterResultAdapter extends TypeAdapter<CharacterResult> {
+        private CharacterResultAdapter(Gson gson) {
+        }
+
+        @Override
+        public void write(JsonWriter out, CharacterResult value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.name("CharacterId").value(value.CharacterId);
+            out.name("CharacterName").value(value.CharacterName);
+            out.name("CharacterType").value(value.CharacterType);
+            out.endObject();
+        }
+
+        @Override
+        public CharacterResult read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            CharacterResult value = new CharacterResult();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "CharacterId": value.CharacterId = PlayFabJson.readString(in); break;
+                        case "CharacterName": value.CharacterName = PlayFabJson.readString(in); break;
+                        case "CharacterType": value.CharacterType = PlayFabJson.readString(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class CollectionFilterAdapter extends TypeAdapter<CollectionFilter> {
+        private final TypeAdapter<Container_Dictionary_String_String> container_Dictionary_String_StringAdapter;
+
+        private CollectionFilterAdapter(Gson gson) {
+            container_Dictionary_String_StringAdapter = gson.getAdapter(Container_Dictionary_String_String.class);
+        }
+
+        @Override
+        public void write(JsonWriter out, CollectionFilter value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            PlayFabJson.writeList(out.name("Excludes"), value.Excludes, container_Dictionary_String_StringAdapter);
+            PlayFabJson.writeList(out.name("Includes"), value.Includes, container_Dictionary_String_StringAdapter);
+            out.endObject();
+        }
+
+        @Override
+        public CollectionFilter read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            CollectionFilter value = new CollectionFilter();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "Excludes": value.Excludes = PlayFabJson.readList(in, container_Dictionary_String_StringAdapter); break;
+                        case "Includes": value.Includes = PlayFabJson.readList(in, container_Dictionary_String_StringAdapter); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class ConfirmPurchaseRequestAdapter extends TypeAdapter<ConfirmPurchaseRequest> {
+        private final TypeAdapter<String> stringAdapter;
+
+        private ConfirmPurchaseRequestAdapter(Gson gson) {
+            stringAdapter = gson.getAdapter(String.class);
+        }
+
+        @Override
+        public void write(JsonWriter out, ConfirmPurchaseRequest value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            PlayFabJson.writeMap(out.name("CustomTags"), value.CustomTags, stringAdapter);
+            out.name("OrderId").value(value.OrderId);
+            out.endObject();
+        }
+
+        @Override
+        public ConfirmPurchaseRequest read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            ConfirmPurchaseRequest value = new ConfirmPurchaseRequest();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "CustomTags": value.CustomTags = PlayFabJson.readMap(in, stringAdapter); break;
+                        case "OrderId": value.OrderId = PlayFabJson.readString(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class ConfirmPurchaseResultAdapter extends TypeAdapter<ConfirmPurchaseResult> {
+        private final TypeAdapter<ItemInstance> itemInstanceAdapter;
+        private final TypeAdapter<Date> dateAdapter;
+
+        private ConfirmPurchaseResultAdapter(Gson gson) {
+            itemInstanceAdapter = gson.getAdapter(ItemInstance.class);
+            dateAdapter = gson.getAdapter(Date.class);
+        }
+
+        @Override
+        public void write(JsonWriter out, ConfirmPurchaseResult value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            PlayFabJson.writeList(out.name("Items"), value.Items, itemInstanceAdapter);
+            out.name("OrderId").value(value.OrderId);
+            dateAdapter.write(out.name("PurchaseDate"), value.PurchaseDate);
+            out.endObject();
+        }
+
+        @Override
+        public ConfirmPurchaseResult read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            ConfirmPurchaseResult value = new ConfirmPurchaseResult();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "Items": value.Items = PlayFabJson.readList(in, itemInstanceAdapter); break;
+                        case "OrderId": value.OrderId = PlayFabJson.readString(in); break;
+                        case "PurchaseDate": value.PurchaseDate = dateAdapter.read(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class ConsumeItemRequestAdapter extends TypeAdapter<ConsumeItemRequest> {
+        private final TypeAdapter<String> stringAdapter;
+
+        private ConsumeItemRequestAdapter(Gson gson) {
+            stringAdapter = gson.getAdapter(String.class);
+        }
+
+        @Override
+        public void write(JsonWriter out, ConsumeItemRequest value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.name("CharacterId").value(value.CharacterId);
+            out.name("ConsumeCount").value(value.ConsumeCount);
+            PlayFabJson.writeMap(out.name("CustomTags"), value.CustomTags, stringAdapter);
+            out.name("ItemInstanceId").value(value.ItemInstanceId);
+            out.endObject();
+        }
+
+        @Override
+        public ConsumeItemRequest read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            ConsumeItemRequest value = new ConsumeItemRequest();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "CharacterId": value.CharacterId = PlayFabJson.readString(in); break;
+                        case "ConsumeCount": value.ConsumeCount = PlayFabJson.readInteger(in); break;
+                        case "CustomTags": value.CustomTags = PlayFabJson.readMap(in, stringAdapter); break;
+                        case "ItemInstanceId": value.ItemInstanceId = PlayFabJson.readString(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class ConsumeItemResultAdapter extends TypeAdapter<ConsumeItemResult> {
+        private ConsumeItemResultAdapter(Gson gson) {
+        }
+
+        @Override
+        public void write(JsonWriter out, ConsumeItemResult value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.name("ItemInstanceId").value(value.ItemInstanceId);
+            out.name("RemainingUses").value(value.RemainingUses);
+            out.endObject();
+        }
+
+        @Override
+        public ConsumeItemResult read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            ConsumeItemResult value = new ConsumeItemResult();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "ItemInstanceId": value.ItemInstanceId = PlayFabJson.readString(in); break;
+                        case "RemainingUses": value.RemainingUses = PlayFabJson.readInteger(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class ConsumeMicrosoftStoreEntitlementsRequestAdapter extends TypeAdapter<ConsumeMicrosoftStoreEntitlementsRequest> {
+        private final TypeAdapter<String> stringAdapter;
+        private final TypeAdapter<MicrosoftStorePayload> microsoftStorePayloadAdapter;
+
+        private ConsumeMicrosoftStoreEntitlementsRequestAdapter(Gson gson) {
+            stringAdapter = gson.getAdapter(String.class);
+            microsoftStorePayloadAdapter = gson.getAdapter(MicrosoftStorePayload.class);
+        }
+
+        @Override
+        public void write(JsonWriter out, ConsumeMicrosoftStoreEntitlementsRequest value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.name("CatalogVersion").value(value.CatalogVersion);
+            PlayFabJson.writeMap(out.name("CustomTags"), value.CustomTags, stringAdapter);
+            microsoftStorePayloadAdapter.write(out.name("MarketplaceSpecificData"), value.MarketplaceSpecificData);
+            out.endObject();
+        }
+
+        @Override
+        public ConsumeMicrosoftStoreEntitlementsRequest read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            ConsumeMicrosoftStoreEntitlementsRequest value = new ConsumeMicrosoftStoreEntitlementsRequest();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "CatalogVersion": value.CatalogVersion = PlayFabJson.readString(in); break;
+                        case "CustomTags": value.CustomTags = PlayFabJson.readMap(in, stringAdapter); break;
+                        case "MarketplaceSpecificData": value.MarketplaceSpecificData = microsoftStorePayloadAdapter.read(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class ConsumeMicrosoftStoreEntitlementsResponseAdapter extends TypeAdapter<ConsumeMicrosoftStoreEntitlementsResponse> {
+        private final TypeAdapter<ItemInstance> itemInstanceAdapter;
+
+        private ConsumeMicrosoftStoreEntitlementsResponseAdapter(Gson gson) {
+            itemInstanceAdapter = gson.getAdapter(ItemInstance.class);
+        }
+
+        @Override
+        public void write(JsonWriter out, ConsumeMicrosoftStoreEntitlementsResponse value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            PlayFabJson.writeList(out.name("Items"), value.Items, itemInstanceAdapter);
+            out.endObject();
+        }
+
+        @Override
+        public ConsumeMicrosoftStoreEntitlementsResponse read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            ConsumeMicrosoftStoreEntitlementsResponse value = new ConsumeMicrosoftStoreEntitlementsResponse();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "Items": value.Items = PlayFabJson.readList(in, itemInstanceAdapter); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class ConsumePS5EntitlementsRequestAdapter extends TypeAdapter<ConsumePS5EntitlementsRequest> {
+        private final TypeAdapter<String> stringAdapter;
+        private final TypeAdapter<PlayStation5Payload> playStation5PayloadAdapter;
+
+        private ConsumePS5EntitlementsRequestAdapter(Gson gson) {
+            stringAdapter = gson.getAdapter(String.class);
+            playStation5PayloadAdapter = gson.getAdapter(PlayStation5Payload.class);
+        }
+
+        @Override
+        public void write(JsonWriter out, ConsumePS5EntitlementsRequest value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.name("CatalogVersion").value(value.CatalogVersion);
+            PlayFabJson.writeMap(out.name("CustomTags"), value.CustomTags, stringAdapter);
+            playStation5PayloadAdapter.write(out.name("MarketplaceSpecificData"), value.MarketplaceSpecificData);
+            out.endObject();
+        }
+
+        @Override
+        public ConsumePS5EntitlementsRequest read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            ConsumePS5EntitlementsRequest value = new ConsumePS5EntitlementsRequest();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "CatalogVersion": value.CatalogVersion = PlayFabJson.readString(in); break;
+                        case "CustomTags": value.CustomTags = PlayFabJson.readMap(in, stringAdapter); break;
+                        case "MarketplaceSpecificData": value.MarketplaceSpecificData = playStation5PayloadAdapter.read(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class ConsumePS5EntitlementsResultAdapter extends TypeAdapter<ConsumePS5EntitlementsResult> {
+        private final TypeAdapter<ItemInstance> itemInstanceAdapter;
+
+        private ConsumePS5EntitlementsResultAdapter(Gson gson) {
+            itemInstanceAdapter = gson.getAdapter(ItemInstance.class);
+        }
+
+        @Override
+        public void write(JsonWriter out, ConsumePS5EntitlementsResult value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            PlayFabJson.writeList(out.name("Items"), value.Items, itemInstanceAdapter);
+            out.endObject();
+        }
+
+        @Override
+        public ConsumePS5EntitlementsResult read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            ConsumePS5EntitlementsResult value = new ConsumePS5EntitlementsResult();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "Items": value.Items = PlayFabJson.readList(in, itemInstanceAdapter); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class ConsumePSNEntitlementsRequestAdapter extends TypeAdapter<ConsumePSNEntitlementsRequest> {
+        private final TypeAdapter<String> stringAdapter;
+
+        private ConsumePSNEntitlementsRequestAdapter(Gson gson) {
+            stringAdapter = gson.getAdapter(String.class);
+        }
+
+        @Override
+        public void write(JsonWriter out, ConsumePSNEntitlementsRequest value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.name("CatalogVersion").value(value.CatalogVersion);
+            PlayFabJson.writeMap(out.name("CustomTags"), value.CustomTags, stringAdapter);
+            out.name("ServiceLabel").value(value.ServiceLabel);
+            out.endObject();
+        }
+
+        @Override
+        public ConsumePSNEntitlementsRequest read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            ConsumePSNEntitlementsRequest value = new ConsumePSNEntitlementsRequest();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "CatalogVersion": value.CatalogVersion = PlayFabJson.readString(in); break;
+                        case "CustomTags": value.CustomTags = PlayFabJson.readMap(in, stringAdapter); break;
+                        case "ServiceLabel": value.ServiceLabel = PlayFabJson.readInteger(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class ConsumePSNEntitlementsResultAdapter extends TypeAdapter<ConsumePSNEntitlementsResult> {
+        private final TypeAdapter<ItemInstance> itemInstanceAdapter;
+
+        private ConsumePSNEntitlementsResultAdapter(Gson gson) {
+            itemInstanceAdapter = gson.getAdapter(ItemInstance.class);
+        }
+
+        @Override
+        public void write(JsonWriter out, ConsumePSNEntitlementsResult value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            PlayFabJson.writeList(out.name("ItemsGranted"), value.ItemsGranted, itemInstanceAdapter);
+            out.endObject();
+        }
+
+        @Override
+        public ConsumePSNEntitlementsResult read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            ConsumePSNEntitlementsResult value = new ConsumePSNEntitlementsResult();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "ItemsGranted": value.ItemsGranted = PlayFabJson.readList(in, itemInstanceAdapter); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class ConsumeXboxEntitlementsRequestAdapter extends TypeAdapter<ConsumeXboxEntitlementsRequest> {
+        private final TypeAdapter<String> stringAdapter;
+
+        private ConsumeXboxEntitlementsRequestAdapter(Gson gson) {
+            stringAdapter = gson.getAdapter(String.class);
+        }
+
+        @Override
+        public void write(JsonWriter out, ConsumeXboxEntitlementsRequest value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.name("CatalogVersion").value(value.CatalogVersion);
+            PlayFabJson.writeMap(out.name("CustomTags"), value.CustomTags, stringAdapter);
+            out.name("XboxToken").value(value.XboxToken);
+            out.endObject();
+        }
+
+        @Override
+        public ConsumeXboxEntitlementsRequest read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            ConsumeXboxEntitlementsRequest value = new ConsumeXboxEntitlementsRequest();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "CatalogVersion": value.CatalogVersion = PlayFabJson.readString(in); break;
+                        case "CustomTags": value.CustomTags = PlayFabJson.readMap(in, stringAdapter); break;
+                        case "XboxToken": value.XboxToken = PlayFabJson.readString(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class ConsumeXboxEntitlementsResultAdapter extends TypeAdapter<ConsumeXboxEntitlementsResult> {
+        private final TypeAdapter<ItemInstance> itemInstanceAdapter;
+
+        private ConsumeXboxEntitlementsResultAdapter(Gson gson) {
+            itemInstanceAdapter = gson.getAdapter(ItemInstance.class);
+        }
+
+        @Override
+        public void write(JsonWriter out, ConsumeXboxEntitlementsResult value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            PlayFabJson.writeList(out.name("Items"), value.Items, itemInstanceAdapter);
+            out.endObject();
+        }
+
+        @Override
+        public ConsumeXboxEntitlementsResult read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            ConsumeXboxEntitlementsResult value = new ConsumeXboxEntitlementsResult();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "Items": value.Items = PlayFabJson.readList(in, itemInstanceAdapter); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class ContactEmailInfoModelAdapter extends TypeAdapter<ContactEmailInfoModel> {
+        private final TypeAdapter<EmailVerificationStatus> emailVerificationStatusAdapter;
+
+        private ContactEmailInfoModelAdapter(Gson gson) {
+            emailVerificationStatusAdapter = gson.getAdapter(EmailVerificationStatus.class);
+        }
+
+        @Override
+        public void write(JsonWriter out, ContactEmailInfoModel value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.name("EmailAddress").value(value.EmailAddress);
+            out.name("Name").value(value.Name);
+            emailVerificationStatusAdapter.write(out.name("VerificationStatus"), value.VerificationStatus);
+            out.endObject();
+        }
+
+        @Override
+        public ContactEmailInfoModel read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            ContactEmailInfoModel value = new ContactEmailInfoModel();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "EmailAddress": value.EmailAddress = PlayFabJson.readString(in); break;
+                        case "Name": value.Name = PlayFabJson.readString(in); break;
+                        case "VerificationStatus": value.VerificationStatus = emailVerificationStatusAdapter.read(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class Container_Dictionary_String_StringAdapter extends TypeAdapter<Container_Dictionary_String_String> {
+        private final TypeAdapter<String> stringAdapter;
+
+        private Container_Dictionary_String_StringAdapter(Gson gson) {
+            stringAdapter = gson.getAdapter(String.class);
+        }
+
+        @Override
+        public void write(JsonWriter out, Container_Dictionary_String_String value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            PlayFabJson.writeMap(out.name("Data"), value.Data, stringAdapter);
+            out.endObject();
+        }
+
+        @Override
+        public Container_Dictionary_String_String read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            Container_Dictionary_String_String value = new Container_Dictionary_String_String();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "Data": value.Data = PlayFabJson.readMap(in, stringAdapter); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class CreateSharedGroupRequestAdapter extends TypeAdapter<CreateSharedGroupRequest> {
+        private CreateSharedGroupRequestAdapter(Gson gson) {
+        }
+
+        @Override
+        public void write(JsonWriter out, CreateSharedGroupRequest value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.name("SharedGroupId").value(value.SharedGroupId);
+            out.endObject();
+        }
+
+        @Override
+        public CreateSharedGroupRequest read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            CreateSharedGroupRequest value = new CreateSharedGroupRequest();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "SharedGroupId": value.SharedGroupId = PlayFabJson.readString(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class CreateSharedGroupResultAdapter extends TypeAdapter<CreateSharedGroupResult> {
+        private CreateSharedGroupResultAdapter(Gson gson) {
+        }
+
+        @Override
+        public void write(JsonWriter out, CreateSharedGroupResult value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.name("SharedGroupId").value(value.SharedGroupId);
+            out.endObject();
+        }
+
+        @Override
+        public CreateSharedGroupResult read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            CreateSharedGroupResult value = new CreateSharedGroupResult();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "SharedGroupId": value.SharedGroupId = PlayFabJson.readString(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class CurrentGamesRequestAdapter extends TypeAdapter<CurrentGamesRequest> {
+        private final TypeAdapter<Region> regionAdapter;
+        private final TypeAdapter<CollectionFilter> collectionFilterAdapter;
+
+        private CurrentGamesRequestAdapter(Gson gson) {
+            regionAdapter = gson.getAdapter(Region.class);
+            collectionFilterAdapter = gson.getAdapter(CollectionFilter.class);
+        }
+
+        @Override
+        public void write(JsonWriter out, CurrentGamesRequest value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.name("BuildVersion").value(value.BuildVersion);
+            out.name("GameMode").value(value.GameMode);
+            regionAdapter.write(out.name("Region"), value.Region);
+            out.name("StatisticName").value(value.StatisticName);
+            collectionFilterAdapter.write(out.name("TagFilter"), value.TagFilter);
+            out.endObject();
+        }
+
+        @Override
+        public CurrentGamesRequest read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            CurrentGamesRequest value = new CurrentGamesRequest();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "BuildVersion": value.BuildVersion = PlayFabJson.readString(in); break;
+                        case "GameMode": value.GameMode = PlayFabJson.readString(in); break;
+                        case "Region": value.Region = regionAdapter.read(in); break;
+                        case "StatisticName": value.StatisticName = PlayFabJson.readString(in); break;
+                        case "TagFilter": value.TagFilter = collectionFilterAdapter.read(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class CurrentGamesResultAdapter extends TypeAdapter<CurrentGamesResult> {
+        private final TypeAdapter<GameInfo> gameInfoAdapter;
+
+        private CurrentGamesResultAdapter(Gson gson) {
+            gameInfoAdapter = gson.getAdapter(GameInfo.class);
+        }
+
+        @Override
+        public void write(JsonWriter out, CurrentGamesResult value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.name("GameCount").value(value.GameCount);
+            PlayFabJson.writeList(out.name("Games"), value.Games, gameInfoAdapter);
+            out.name("PlayerCount").value(value.PlayerCount);
+            out.endObject();
+        }
+
+        @Override
+        public CurrentGamesResult read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            CurrentGamesResult value = new CurrentGamesResult();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "GameCount": value.GameCount = PlayFabJson.readInteger(in); break;
+                        case "Games": value.Games = PlayFabJson.readList(in, gameInfoAdapter); break;
+                        case "PlayerCount": value.PlayerCount = PlayFabJson.readInteger(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class DeviceInfoRequestAdapter extends TypeAdapter<DeviceInfoRequest> {
+        private final TypeAdapter<Object> objectAdapter;
+
+        private DeviceInfoRequestAdapter(Gson gson) {
+            objectAdapter = gson.getAdapter(Object.class);
+        }
+
+        @Override
+        public void write(JsonWriter out, DeviceInfoRequest value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            PlayFabJson.writeMap(out.name("Info"), value.Info, objectAdapter);
+            out.endObject();
+        }
+
+        @Override
+        public DeviceInfoRequest read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            DeviceInfoRequest value = new DeviceInfoRequest();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "Info": value.Info = PlayFabJson.readMap(in, objectAdapter); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class EmptyResponseAdapter extends TypeAdapter<EmptyResponse> {
+        private EmptyResponseAdapter(Gson gson) {
+        }
+
+        @Override
+        public void write(JsonWriter out, EmptyResponse value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.endObject();
+        }
+
+        @Override
+        public EmptyResponse read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            EmptyResponse value = new EmptyResponse();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class EmptyResultAdapter extends TypeAdapter<EmptyResult> {
+        private EmptyResultAdapter(Gson gson) {
+        }
+
+        @Override
+        public void write(JsonWriter out, EmptyResult value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.endObject();
+        }
+
+        @Override
+        public EmptyResult read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            EmptyResult value = new EmptyResult();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class EntityKeyAdapter extends TypeAdapter<EntityKey> {
+        private EntityKeyAdapter(Gson gson) {
+        }
+
+        @Override
+        public void write(JsonWriter out, EntityKey value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.name("Id").value(value.Id);
+            out.name("Type").value(value.Type);
+            out.endObject();
+        }
+
+        @Override
+        public EntityKey read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            EntityKey value = new EntityKey();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "Id": value.Id = PlayFabJson.readString(in); break;
+                        case "Type": value.Type = PlayFabJson.readString(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class EntityTokenResponseAdapter extends TypeAdapter<EntityTokenResponse> {
+        private final TypeAdapter<EntityKey> entityKeyAdapter;
+        private final TypeAdapter<Date> dateAdapter;
+
+        private EntityTokenResponseAdapter(Gson gson) {
+            entityKeyAdapter = gson.getAdapter(EntityKey.class);
+            dateAdapter = gson.getAdapter(Date.class);
+        }
+
+        @Override
+        public void write(JsonWriter out, EntityTokenResponse value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            entityKeyAdapter.write(out.name("Entity"), value.Entity);
+            out.name("EntityToken").value(value.EntityToken);
+            dateAdapter.write(out.name("TokenExpiration"), value.TokenExpiration);
+            out.endObject();
+        }
+
+        @Override
+        public EntityTokenResponse read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            EntityTokenResponse value = new EntityTokenResponse();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "Entity": value.Entity = entityKeyAdapter.read(in); break;
+                        case "EntityToken": value.EntityToken = PlayFabJson.readString(in); break;
+                        case "TokenExpiration": value.TokenExpiration = dateAdapter.read(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class ExecuteCloudScriptRequestAdapter extends TypeAdapter<ExecuteCloudScriptRequest> {
+        private final TypeAdapter<String> stringAdapter;
+        private final TypeAdapter<Object> objectAdapter;
+        private final TypeAdapter<CloudScriptRevisionOption> cloudScriptRevisionOptionAdapter;
+
+        private ExecuteCloudScriptRequestAdapter(Gson gson) {
+            stringAdapter = gson.getAdapter(String.class);
+            objectAdapter = gson.getAdapter(Object.class);
+            cloudScriptRevisionOptionAdapter = gson.getAdapter(CloudScriptRevisionOption.class);
+        }
+
+        @Override
+        public void write(JsonWriter out, ExecuteCloudScriptRequest value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            PlayFabJson.writeMap(out.name("CustomTags"), value.CustomTags, stringAdapter);
+            out.name("FunctionName").value(value.FunctionName);
+            objectAdapter.write(out.name("FunctionParameter"), value.FunctionParameter);
+            out.name("GeneratePlayStreamEvent").value(value.GeneratePlayStreamEvent);
+            cloudScriptRevisionOptionAdapter.write(out.name("RevisionSelection"), value.RevisionSelection);
+            out.name("SpecificRevision").value(value.SpecificRevision);
+            out.endObject();
+        }
+
+        @Override
+        public ExecuteCloudScriptRequest read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            ExecuteCloudScriptRequest value = new ExecuteCloudScriptRequest();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "CustomTags": value.CustomTags = PlayFabJson.readMap(in, stringAdapter); break;
+                        case "FunctionName": value.FunctionName = PlayFabJson.readString(in); break;
+                        case "FunctionParameter": value.FunctionParameter = objectAdapter.read(in); break;
+                        case "GeneratePlayStreamEvent": value.GeneratePlayStreamEvent = PlayFabJson.readBoolean(in); break;
+                        case "RevisionSelection": value.RevisionSelection = cloudScriptRevisionOptionAdapter.read(in); break;
+                        case "SpecificRevision": value.SpecificRevision = PlayFabJson.readInteger(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class ExecuteCloudScriptResultAdapter extends TypeAdapter<ExecuteCloudScriptResult> {
+        private final TypeAdapter<ScriptExecutionError> scriptExecutionErrorAdapter;
+        private final TypeAdapter<Double> doubleAdapter;
+        private final TypeAdapter<Object> objectAdapter;
+        private final TypeAdapter<LogStatement> logStatementAdapter;
+
+        private ExecuteCloudScriptResultAdapter(Gson gson) {
+            scriptExecutionErrorAdapter = gson.getAdapter(ScriptExecutionError.class);
+            doubleAdapter = gson.getAdapter(Double.class);
+            objectAdapter = gson.getAdapter(Object.class);
+            logStatementAdapter = gson.getAdapter(LogStatement.class);
+        }
+
+        @Override
+        public void write(JsonWriter out, ExecuteCloudScriptResult value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.name("APIRequestsIssued").value(value.APIRequestsIssued);
+            scriptExecutionErrorAdapter.write(out.name("Error"), value.Error);
+            doubleAdapter.write(out.name("ExecutionTimeSeconds"), value.ExecutionTimeSeconds);
+            out.name("FunctionName").value(value.FunctionName);
+            objectAdapter.write(out.name("FunctionResult"), value.FunctionResult);
+            out.name("FunctionResultTooLarge").value(value.FunctionResultTooLarge);
+            out.name("HttpRequestsIssued").value(value.HttpRequestsIssued);
+            PlayFabJson.writeList(out.name("Logs"), value.Logs, logStatementAdapter);
+            out.name("LogsTooLarge").value(value.LogsTooLarge);
+            out.name("MemoryConsumedBytes").value(value.MemoryConsumedBytes);
+            doubleAdapter.write(out.name("ProcessorTimeSeconds"), value.ProcessorTimeSeconds);
+            out.name("Revision").value(value.Revision);
+            out.endObject();
+        }
+
+        @Override
+        public ExecuteCloudScriptResult read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            ExecuteCloudScriptResult value = new ExecuteCloudScriptResult();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "APIRequestsIssued": value.APIRequestsIssued = PlayFabJson.readInteger(in); break;
+                        case "Error": value.Error = scriptExecutionErrorAdapter.read(in); break;
+                        case "ExecutionTimeSeconds": value.ExecutionTimeSeconds = doubleAdapter.read(in); break;
+                        case "FunctionName": value.FunctionName = PlayFabJson.readString(in); break;
+                        case "FunctionResult": value.FunctionResult = objectAdapter.read(in); break;
+                        case "FunctionResultTooLarge": value.FunctionResultTooLarge = PlayFabJson.readBoolean(in); break;
+                        case "HttpRequestsIssued": value.HttpRequestsIssued = PlayFabJson.readInteger(in); break;
+                        case "Logs": value.Logs = PlayFabJson.readList(in, logStatementAdapter); break;
+                        case "LogsTooLarge": value.LogsTooLarge = PlayFabJson.readBoolean(in); break;
+                        case "MemoryConsumedBytes": value.MemoryConsumedBytes = PlayFabJson.readLong(in); break;
+                        case "ProcessorTimeSeconds": value.ProcessorTimeSeconds = doubleAdapter.read(in); break;
+                        case "Revision": value.Revision = PlayFabJson.readInteger(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class FacebookInstantGamesPlayFabIdPairAdapter extends TypeAdapter<FacebookInstantGamesPlayFabIdPair> {
+        private FacebookInstantGamesPlayFabIdPairAdapter(Gson gson) {
+        }
+
+        @Override
+        public void write(JsonWriter out, FacebookInstantGamesPlayFabIdPair value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.name("FacebookInstantGamesId").value(value.FacebookInstantGamesId);
+            out.name("PlayFabId").value(value.PlayFabId);
+            out.endObject();
+        }
+
+        @Override
+        public FacebookInstantGamesPlayFabIdPair read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            FacebookInstantGamesPlayFabIdPair value = new FacebookInstantGamesPlayFabIdPair();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "FacebookInstantGamesId": value.FacebookInstantGamesId = PlayFabJson.readString(in); break;
+                        case "PlayFabId": value.PlayFabId = PlayFabJson.readString(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class FacebookPlayFabIdPairAdapter extends TypeAdapter<FacebookPlayFabIdPair> {
+        private FacebookPlayFabIdPairAdapter(Gson gson) {
+        }
+
+        @Override
+        public void write(JsonWriter out, FacebookPlayFabIdPair value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.name("FacebookId").value(value.FacebookId);
+            out.name("PlayFabId").value(value.PlayFabId);
+            out.endObject();
+        }
+
+        @Override
+        public FacebookPlayFabIdPair read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            FacebookPlayFabIdPair value = new FacebookPlayFabIdPair();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "FacebookId": value.FacebookId = PlayFabJson.readString(in); break;
+                        case "PlayFabId": value.PlayFabId = PlayFabJson.readString(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class FriendInfoAdapter extends TypeAdapter<FriendInfo> {
+        private final TypeAdapter<UserFacebookInfo> userFacebookInfoAdapter;
+        private final TypeAdapter<UserGameCenterInfo> userGameCenterInfoAdapter;
+        private final TypeAdapter<PlayerProfileModel> playerProfileModelAdapter;
+        private final TypeAdapter<UserPsnInfo> userPsnInfoAdapter;
+        private final TypeAdapter<UserSteamInfo> userSteamInfoAdapter;
+        private final TypeAdapter<String> stringAdapter;
+        private final TypeAdapter<UserXboxInfo> userXboxInfoAdapter;
+
+        private FriendInfoAdapter(Gson gson) {
+            userFacebookInfoAdapter = gson.getAdapter(UserFacebookInfo.class);
+            userGameCenterInfoAdapter = gson.getAdapter(UserGameCenterInfo.class);
+            playerProfileModelAdapter = gson.getAdapter(PlayerProfileModel.class);
+            userPsnInfoAdapter = gson.getAdapter(UserPsnInfo.class);
+            userSteamInfoAdapter = gson.getAdapter(UserSteamInfo.class);
+            stringAdapter = gson.getAdapter(String.class);
+            userXboxInfoAdapter = gson.getAdapter(UserXboxInfo.class);
+        }
+
+        @Override
+        public void write(JsonWriter out, FriendInfo value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            userFacebookInfoAdapter.write(out.name("FacebookInfo"), value.FacebookInfo);
+            out.name("FriendPlayFabId").value(value.FriendPlayFabId);
+            userGameCenterInfoAdapter.write(out.name("GameCenterInfo"), value.GameCenterInfo);
+            playerProfileModelAdapter.write(out.name("Profile"), value.Profile);
+            userPsnInfoAdapter.write(out.name("PSNInfo"), value.PSNInfo);
+            userSteamInfoAdapter.write(out.name("SteamInfo"), value.SteamInfo);
+            PlayFabJson.writeList(out.name("Tags"), value.Tags, stringAdapter);
+            out.name("TitleDisplayName").value(value.TitleDisplayName);
+            out.name("Username").value(value.Username);
+            userXboxInfoAdapter.write(out.name("XboxInfo"), value.XboxInfo);
+            out.endObject();
+        }
+
+        @Override
+        public FriendInfo read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            FriendInfo value = new FriendInfo();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "FacebookInfo": value.FacebookInfo = userFacebookInfoAdapter.read(in); break;
+                        case "FriendPlayFabId": value.FriendPlayFabId = PlayFabJson.readString(in); break;
+                        case "GameCenterInfo": value.GameCenterInfo = userGameCenterInfoAdapter.read(in); break;
+                        case "Profile": value.Profile = playerProfileModelAdapter.read(in); break;
+                        case "PSNInfo": value.PSNInfo = userPsnInfoAdapter.read(in); break;
+                        case "SteamInfo": value.SteamInfo = userSteamInfoAdapter.read(in); break;
+                        case "Tags": value.Tags = PlayFabJson.readList(in, stringAdapter); break;
+                        case "TitleDisplayName": value.TitleDisplayName = PlayFabJson.readString(in); break;
+                        case "Username": value.Username = PlayFabJson.readString(in); break;
+                        case "XboxInfo": value.XboxInfo = userXboxInfoAdapter.read(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class GameCenterPlayFabIdPairAdapter extends TypeAdapter<GameCenterPlayFabIdPair> {
+        private GameCenterPlayFabIdPairAdapter(Gson gson) {
+        }
+
+        @Override
+        public void write(JsonWriter out, GameCenterPlayFabIdPair value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.name("GameCenterId").value(value.GameCenterId);
+            out.name("PlayFabId").value(value.PlayFabId);
+            out.endObject();
+        }
+
+        @Override
+        public GameCenterPlayFabIdPair read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            GameCenterPlayFabIdPair value = new GameCenterPlayFabIdPair();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "GameCenterId": value.GameCenterId = PlayFabJson.readString(in); break;
+                        case "PlayFabId": value.PlayFabId = PlayFabJson.readString(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class GameInfoAdapter extends TypeAdapter<GameInfo> {
+        private final TypeAdapter<GameInstanceState> gameInstanceStateAdapter;
+        private final TypeAdapter<Date> dateAdapter;
+        private final TypeAdapter<String> stringAdapter;
+        private final TypeAdapter<Region> regionAdapter;
+
+        private GameInfoAdapter(Gson gson) {
+            gameInstanceStateAdapter = gson.getAdapter(GameInstanceState.class);
+            dateAdapter = gson.getAdapter(Date.class);
+            stringAdapter = gson.getAdapter(String.class);
+            regionAdapter = gson.getAdapter(Region.class);
+        }
+
+        @Override
+        public void write(JsonWriter out, GameInfo value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.name("BuildVersion").value(value.BuildVersion);
+            out.name("GameMode").value(value.GameMode);
+            out.name("GameServerData").value(value.GameServerData);
+            gameInstanceStateAdapter.write(out.name("GameServerStateEnum"), value.GameServerStateEnum);
+            dateAdapter.write(out.name("LastHeartbeat"), value.LastHeartbeat);
+            out.name("LobbyID").value(value.LobbyID);
+            out.name("MaxPlayers").value(value.MaxPlayers);
+            PlayFabJson.writeList(out.name("PlayerUserIds"), value.PlayerUserIds, stringAdapter);
+            regionAdapter.write(out.name("Region"), value.Region);
+            out.name("RunTime").value(value.RunTime);
+            out.name("ServerIPV4Address").value(value.ServerIPV4Address);
+            out.name("ServerIPV6Address").value(value.ServerIPV6Address);
+            out.name("ServerPort").value(value.ServerPort);
+            out.name("ServerPublicDNSName").value(value.ServerPublicDNSName);
+            out.name("StatisticName").value(value.StatisticName);
+            PlayFabJson.writeMap(out.name("Tags"), value.Tags, stringAdapter);
+            out.endObject();
+        }
+
+        @Override
+        public GameInfo read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            GameInfo value = new GameInfo();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "BuildVersion": value.BuildVersion = PlayFabJson.readString(in); break;
+                        case "GameMode": value.GameMode = PlayFabJson.readString(in); break;
+                        case "GameServerData": value.GameServerData = PlayFabJson.readString(in); break;
+                        case "GameServerStateEnum": value.GameServerStateEnum = gameInstanceStateAdapter.read(in); break;
+                        case "LastHeartbeat": value.LastHeartbeat = dateAdapter.read(in); break;
+                        case "LobbyID": value.LobbyID = PlayFabJson.readString(in); break;
+                        case "MaxPlayers": value.MaxPlayers = PlayFabJson.readInteger(in); break;
+                        case "PlayerUserIds": value.PlayerUserIds = PlayFabJson.readList(in, stringAdapter); break;
+                        case "Region": value.Region = regionAdapter.read(in); break;
+                        case "RunTime": value.RunTime = PlayFabJson.readLong(in); break;
+                        case "ServerIPV4Address": value.ServerIPV4Address = PlayFabJson.readString(in); break;
+                        case "ServerIPV6Address": value.ServerIPV6Address = PlayFabJson.readString(in); break;
+                        case "ServerPort": value.ServerPort = PlayFabJson.readInteger(in); break;
+                        case "ServerPublicDNSName": value.ServerPublicDNSName = PlayFabJson.readString(in); break;
+                        case "StatisticName": value.StatisticName = PlayFabJson.readString(in); break;
+                        case "Tags": value.Tags = PlayFabJson.readMap(in, stringAdapter); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class GameServerRegionsRequestAdapter extends TypeAdapter<GameServerRegionsRequest> {
+        private GameServerRegionsRequestAdapter(Gson gson) {
+        }
+
+        @Override
+        public void write(JsonWriter out, GameServerRegionsRequest value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.name("BuildVersion").value(value.BuildVersion);
+            out.name("TitleId").value(value.TitleId);
+            out.endObject();
+        }
+
+        @Override
+        public GameServerRegionsRequest read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            GameServerRegionsRequest value = new GameServerRegionsRequest();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "BuildVersion": value.BuildVersion = PlayFabJson.readString(in); break;
+                        case "TitleId": value.TitleId = PlayFabJson.readString(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class GameServerRegionsResultAdapter extends TypeAdapter<GameServerRegionsResult> {
+        private final TypeAdapter<RegionInfo> regionInfoAdapter;
+
+        private GameServerRegionsResultAdapter(Gson gson) {
+            regionInfoAdapter = gson.getAdapter(RegionInfo.class);
+        }
+
+        @Override
+        public void write(JsonWriter out, GameServerRegionsResult value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            PlayFabJson.writeList(out.name("Regions"), value.Regions, regionInfoAdapter);
+            out.endObject();
+        }
+
+        @Override
+        public GameServerRegionsResult read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            GameServerRegionsResult value = new GameServerRegionsResult();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "Regions": value.Regions = PlayFabJson.readList(in, regionInfoAdapter); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class GenericPlayFabIdPairAdapter extends TypeAdapter<GenericPlayFabIdPair> {
+        private final TypeAdapter<GenericServiceId> genericServiceIdAdapter;
+
+        private GenericPlayFabIdPairAdapter(Gson gson) {
+            genericServiceIdAdapter = gson.getAdapter(GenericServiceId.class);
+        }
+
+        @Override
+        public void write(JsonWriter out, GenericPlayFabIdPair value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            genericServiceIdAdapter.write(out.name("GenericId"), value.GenericId);
+            out.name("PlayFabId").value(value.PlayFabId);
+            out.endObject();
+        }
+
+        @Override
+        public GenericPlayFabIdPair read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            GenericPlayFabIdPair value = new GenericPlayFabIdPair();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "GenericId": value.GenericId = genericServiceIdAdapter.read(in); break;
+                        case "PlayFabId": value.PlayFabId = PlayFabJson.readString(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class GenericServiceIdAdapter extends TypeAdapter<GenericServiceId> {
+        private GenericServiceIdAdapter(Gson gson) {
+        }
+
+        @Override
+        public void write(JsonWriter out, GenericServiceId value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.name("ServiceName").value(value.ServiceName);
+            out.name("UserId").value(value.UserId);
+            out.endObject();
+        }
+
+        @Override
+        public GenericServiceId read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            GenericServiceId value = new GenericServiceId();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "ServiceName": value.ServiceName = PlayFabJson.readString(in); break;
+                        case "UserId": value.UserId = PlayFabJson.readString(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class GetAccountInfoRequestAdapter extends TypeAdapter<GetAccountInfoRequest> {
+        private GetAccountInfoRequestAdapter(Gson gson) {
+        }
+
+        @Override
+        public void write(JsonWriter out, GetAccountInfoRequest value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.name("Email").value(value.Email);
+            out.name("PlayFabId").value(value.PlayFabId);
+            out.name("TitleDisplayName").value(value.TitleDisplayName);
+            out.name("Username").value(value.Username);
+            out.endObject();
+        }
+
+        @Override
+        public GetAccountInfoRequest read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            GetAccountInfoRequest value = new GetAccountInfoRequest();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "Email": value.Email = PlayFabJson.readString(in); break;
+                        case "PlayFabId": value.PlayFabId = PlayFabJson.readString(in); break;
+                        case "TitleDisplayName": value.TitleDisplayName = PlayFabJson.readString(in); break;
+                        case "Username": value.Username = PlayFabJson.readString(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class GetAccountInfoResultAdapter extends TypeAdapter<GetAccountInfoResult> {
+        private final TypeAdapter<UserAccountInfo> userAccountInfoAdapter;
+
+        private GetAccountInfoResultAdapter(Gson gson) {
+            userAccountInfoAdapter = gson.getAdapter(UserAccountInfo.class);
+        }
+
+        @Override
+        public void write(JsonWriter out, GetAccountInfoResult value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            userAccountInfoAdapter.write(out.name("AccountInfo"), value.AccountInfo);
+            out.endObject();
+        }
+
+        @Override
+        public GetAccountInfoResult read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            GetAccountInfoResult value = new GetAccountInfoResult();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "AccountInfo": value.AccountInfo = userAccountInfoAdapter.read(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class GetAdPlacementsRequestAdapter extends TypeAdapter<GetAdPlacementsRequest> {
+        private final TypeAdapter<NameIdentifier> nameIdentifierAdapter;
+
+        private GetAdPlacementsRequestAdapter(Gson gson) {
+            nameIdentifierAdapter = gson.getAdapter(NameIdentifier.class);
+        }
+
+        @Override
+        public void write(JsonWriter out, GetAdPlacementsRequest value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.name("AppId").value(value.AppId);
+            nameIdentifierAdapter.write(out.name("Identifier"), value.Identifier);
+            out.endObject();
+        }
+
+        @Override
+        public GetAdPlacementsRequest read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            GetAdPlacementsRequest value = new GetAdPlacementsRequest();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "AppId": value.AppId = PlayFabJson.readString(in); break;
+                        case "Identifier": value.Identifier = nameIdentifierAdapter.read(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class GetAdPlacementsResultAdapter extends TypeAdapter<GetAdPlacementsResult> {
+        private final TypeAdapter<AdPlacementDetails> adPlacementDetailsAdapter;
+
+        private GetAdPlacementsResultAdapter(Gson gson) {
+            adPlacementDetailsAdapter = gson.getAdapter(AdPlacementDetails.class);
+        }
+
+        @Override
+        public void write(JsonWriter out, GetAdPlacementsResult value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            PlayFabJson.writeList(out.name("AdPlacements"), value.AdPlacements, adPlacementDetailsAdapter);
+            out.endObject();
+        }
+
+        @Override
+        public GetAdPlacementsResult read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            GetAdPlacementsResult value = new GetAdPlacementsResult();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "AdPlacements": value.AdPlacements = PlayFabJson.readList(in, adPlacementDetailsAdapter); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class GetCatalogItemsRequestAdapter extends TypeAdapter<GetCatalogItemsRequest> {
+        private GetCatalogItemsRequestAdapter(Gson gson) {
+        }
+
+        @Override
+        public void write(JsonWriter out, GetCatalogItemsRequest value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.name("CatalogVersion").value(value.CatalogVersion);
+            out.endObject();
+        }
+
+        @Override
+        public GetCatalogItemsRequest read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            GetCatalogItemsRequest value = new GetCatalogItemsRequest();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "CatalogVersion": value.CatalogVersion = PlayFabJson.readString(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class GetCatalogItemsResultAdapter extends TypeAdapter<GetCatalogItemsResult> {
+        private final TypeAdapter<CatalogItem> catalogItemAdapter;
+
+        private GetCatalogItemsResultAdapter(Gson gson) {
+            catalogItemAdapter = gson.getAdapter(CatalogItem.class);
+        }
+
+        @Override
+        public void write(JsonWriter out, GetCatalogItemsResult value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            PlayFabJson.writeList(out.name("Catalog"), value.Catalog, catalogItemAdapter);
+            out.endObject();
+        }
+
+        @Override
+        public GetCatalogItemsResult read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            GetCatalogItemsResult value = new GetCatalogItemsResult();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "Catalog": value.Catalog = PlayFabJson.readList(in, catalogItemAdapter); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class GetCharacterDataRequestAdapter extends TypeAdapter<GetCharacterDataRequest> {
+        private final TypeAdapter<String> stringAdapter;
+
+        private GetCharacterDataRequestAdapter(Gson gson) {
+            stringAdapter = gson.getAdapter(String.class);
+        }
+
+        @Override
+        public void write(JsonWriter out, GetCharacterDataRequest value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.name("CharacterId").value(value.CharacterId);
+            out.name("IfChangedFromDataVersion").value(value.IfChangedFromDataVersion);
+            PlayFabJson.writeList(out.name("Keys"), value.Keys, stringAdapter);
+            out.name("PlayFabId").value(value.PlayFabId);
+            out.endObject();
+        }
+
+        @Override
+        public GetCharacterDataRequest read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            GetCharacterDataRequest value = new GetCharacterDataRequest();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "CharacterId": value.CharacterId = PlayFabJson.readString(in); break;
+                        case "IfChangedFromDataVersion": value.IfChangedFromDataVersion = PlayFabJson.readLong(in); break;
+                        case "Keys": value.Keys = PlayFabJson.readList(in, stringAdapter); break;
+                        case "PlayFabId": value.PlayFabId = PlayFabJson.readString(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class GetCharacterDataResultAdapter extends TypeAdapter<GetCharacterDataResult> {
+        private final TypeAdapter<UserDataRecord> userDataRecordAdapter;
+
+        private GetCharacterDataResultAdapter(Gson gson) {
+            userDataRecordAdapter = gson.getAdapter(UserDataRecord.class);
+        }
+
+        @Override
+        public void write(JsonWriter out, GetCharacterDataResult value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.name("CharacterId").value(value.CharacterId);
+            PlayFabJson.writeMap(out.name("Data"), value.Data, userDataRecordAdapter);
+            out.name("DataVersion").value(value.DataVersion);
+            out.endObject();
+        }
+
+        @Override
+        public GetCharacterDataResult read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            GetCharacterDataResult value = new GetCharacterDataResult();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "CharacterId": value.CharacterId = PlayFabJson.readString(in); break;
+                        case "Data": value.Data = PlayFabJson.readMap(in, userDataRecordAdapter); break;
+                        case "DataVersion": value.DataVersion = PlayFabJson.readLong(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class GetCharacterInventoryRequestAdapter extends TypeAdapter<GetCharacterInventoryRequest> {
+        private final TypeAdapter<String> stringAdapter;
+
+        private GetCharacterInventoryRequestAdapter(Gson gson) {
+            stringAdapter = gson.getAdapter(String.class);
+        }
+
+        @Override
+        public void write(JsonWriter out, GetCharacterInventoryRequest value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.name("CatalogVersion").value(value.CatalogVersion);
+            out.name("CharacterId").value(value.CharacterId);
+            PlayFabJson.writeMap(out.name("CustomTags"), value.CustomTags, stringAdapter);
+            out.endObject();
+        }
+
+        @Override
+        public GetCharacterInventoryRequest read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            GetCharacterInventoryRequest value = new GetCharacterInventoryRequest();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "CatalogVersion": value.CatalogVersion = PlayFabJson.readString(in); break;
+                        case "CharacterId": value.CharacterId = PlayFabJson.readString(in); break;
+                        case "CustomTags": value.CustomTags = PlayFabJson.readMap(in, stringAdapter); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class GetCharacterInventoryResultAdapter extends TypeAdapter<GetCharacterInventoryResult> {
+        private final TypeAdapter<ItemInstance> itemInstanceAdapter;
+        private final TypeAdapter<Integer> integerAdapter;
+        private final TypeAdapter<VirtualCurrencyRechargeTime> virtualCurrencyRechargeTimeAdapter;
+
+        private GetCharacterInventoryResultAdapter(Gson gson) {
+            itemInstanceAdapter = gson.getAdapter(ItemInstance.class);
+            integerAdapter = gson.getAdapter(Integer.class);
+            virtualCurrencyRechargeTimeAdapter = gson.getAdapter(VirtualCurrencyRechargeTime.class);
+        }
+
+        @Override
+        public void write(JsonWriter out, GetCharacterInventoryResult value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.name("CharacterId").value(value.CharacterId);
+            PlayFabJson.writeList(out.name("Inventory"), value.Inventory, itemInstanceAdapter);
+            PlayFabJson.writeMap(out.name("VirtualCurrency"), value.VirtualCurrency, integerAdapter);
+            PlayFabJson.writeMap(out.name("VirtualCurrencyRechargeTimes"), value.VirtualCurrencyRechargeTimes, virtualCurrencyRechargeTimeAdapter);
+            out.endObject();
+        }
+
+        @Override
+        public GetCharacterInventoryResult read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            GetCharacterInventoryResult value = new GetCharacterInventoryResult();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "CharacterId": value.CharacterId = PlayFabJson.readString(in); break;
+                        case "Inventory": value.Inventory = PlayFabJson.readList(in, itemInstanceAdapter); break;
+                        case "VirtualCurrency": value.VirtualCurrency = PlayFabJson.readMap(in, integerAdapter); break;
+                        case "VirtualCurrencyRechargeTimes": value.VirtualCurrencyRechargeTimes = PlayFabJson.readMap(in, virtualCurrencyRechargeTimeAdapter); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class GetCharacterLeaderboardRequestAdapter extends TypeAdapter<GetCharacterLeaderboardRequest> {
+        private GetCharacterLeaderboardRequestAdapter(Gson gson) {
+        }
+
+        @Override
+        public void write(JsonWriter out, GetCharacterLeaderboardRequest value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.name("CharacterType").value(value.CharacterType);
+            out.name("MaxResultsCount").value(value.MaxResultsCount);
+            out.name("StartPosition").value(value.StartPosition);
+            out.name("StatisticName").value(value.StatisticName);
+            out.endObject();
+        }
+
+        @Override
+        public GetCharacterLeaderboardRequest read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            GetCharacterLeaderboardRequest value = new GetCharacterLeaderboardRequest();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "CharacterType": value.CharacterType = PlayFabJson.readString(in); break;
+                        case "MaxResultsCount": value.MaxResultsCount = PlayFabJson.readInteger(in); break;
+                        case "StartPosition": value.StartPosition = PlayFabJson.readInteger(in); break;
+                        case "StatisticName": value.StatisticName = PlayFabJson.readString(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class GetCharacterLeaderboardResultAdapter extends TypeAdapter<GetCharacterLeaderboardResult> {
+        private final TypeAdapter<CharacterLeaderboardEntry> characterLeaderboardEntryAdapter;
+
+        private GetCharacterLeaderboardResultAdapter(Gson gson) {
+            characterLeaderboardEntryAdapter = gson.getAdapter(CharacterLeaderboardEntry.class);
+        }
+
+        @Override
+        public void write(JsonWriter out, GetCharacterLeaderboardResult value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            PlayFabJson.writeList(out.name("Leaderboard"), value.Leaderboard, characterLeaderboardEntryAdapter);
+            out.endObject();
+        }
+
+        @Override
+        public GetCharacterLeaderboardResult read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            GetCharacterLeaderboardResult value = new GetCharacterLeaderboardResult();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "Leaderboard": value.Leaderboard = PlayFabJson.readList(in, characterLeaderboardEntryAdapter); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class GetCharacterStatisticsRequestAdapter extends TypeAdapter<GetCharacterStatisticsRequest> {
+        private GetCharacterStatisticsRequestAdapter(Gson gson) {
+        }
+
+        @Override
+        public void write(JsonWriter out, GetCharacterStatisticsRequest value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.name("CharacterId").value(value.CharacterId);
+            out.endObject();
+        }
+
+        @Override
+        public GetCharacterStatisticsRequest read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            GetCharacterStatisticsRequest value = new GetCharacterStatisticsRequest();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "CharacterId": value.CharacterId = PlayFabJson.readString(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class GetCharacterStatisticsResultAdapter extends TypeAdapter<GetCharacterStatisticsResult> {
+        private final TypeAdapter<Integer> integerAdapter;
+
+        private GetCharacterStatisticsResultAdapter(Gson gson) {
+            integerAdapter = gson.getAdapter(Integer.class);
+        }
+
+        @Override
+        public void write(JsonWriter out, GetCharacterStatisticsResult value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            PlayFabJson.writeMap(out.name("CharacterStatistics"), value.CharacterStatistics, integerAdapter);
+            out.endObject();
+        }
+
+        @Override
+        public GetCharacterStatisticsResult read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            GetCharacterStatisticsResult value = new GetCharacterStatisticsResult();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "CharacterStatistics": value.CharacterStatistics = PlayFabJson.readMap(in, integerAdapter); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class GetContentDownloadUrlRequestAdapter extends TypeAdapter<GetContentDownloadUrlRequest> {
+        private GetContentDownloadUrlRequestAdapter(Gson gson) {
+        }
+
+        @Override
+        public void write(JsonWriter out, GetContentDownloadUrlRequest value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.name("HttpMethod").value(value.HttpMethod);
+            out.name("Key").value(value.Key);
+            out.name("ThruCDN").value(value.ThruCDN);
+            out.endObject();
+        }
+
+        @Override
+        public GetContentDownloadUrlRequest read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            GetContentDownloadUrlRequest value = new GetContentDownloadUrlRequest();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "HttpMethod": value.HttpMethod = PlayFabJson.readString(in); break;
+                        case "Key": value.Key = PlayFabJson.readString(in); break;
+                        case "ThruCDN": value.ThruCDN = PlayFabJson.readBoolean(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class GetContentDownloadUrlResultAdapter extends TypeAdapter<GetContentDownloadUrlResult> {
+        private GetContentDownloadUrlResultAdapter(Gson gson) {
+        }
+
+        @Override
+        public void write(JsonWriter out, GetContentDownloadUrlResult value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.name("URL").value(value.URL);
+            out.endObject();
+        }
+
+        @Override
+        public GetContentDownloadUrlResult read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            GetContentDownloadUrlResult value = new GetContentDownloadUrlResult();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "URL": value.URL = PlayFabJson.readString(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class GetFriendLeaderboardAroundPlayerRequestAdapter extends TypeAdapter<GetFriendLeaderboardAroundPlayerRequest> {
+        private final TypeAdapter<String> stringAdapter;
+        private final TypeAdapter<PlayerProfileViewConstraints> playerProfileViewConstraintsAdapter;
+
+        private GetFriendLeaderboardAroundPlayerRequestAdapter(Gson gson) {
+            stringAdapter = gson.getAdapter(String.class);
+            playerProfileViewConstraintsAdapter = gson.getAdapter(PlayerProfileViewConstraints.class);
+        }
+
+        @Override
+        public void write(JsonWriter out, GetFriendLeaderboardAroundPlayerRequest value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            PlayFabJson.writeMap(out.name("CustomTags"), value.CustomTags, stringAdapter);
+            out.name("IncludeFacebookFriends").value(value.IncludeFacebookFriends);
+            out.name("IncludeSteamFriends").value(value.IncludeSteamFriends);
+            out.name("MaxResultsCount").value(value.MaxResultsCount);
+            out.name("PlayFabId").value(value.PlayFabId);
+            playerProfileViewConstraintsAdapter.write(out.name("ProfileConstraints"), value.ProfileConstraints);
+            out.name("StatisticName").value(value.StatisticName);
+            out.name("Version").value(value.Version);
+            out.name("XboxToken").value(value.XboxToken);
+            out.endObject();
+        }
+
+        @Override
+        public GetFriendLeaderboardAroundPlayerRequest read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            GetFriendLeaderboardAroundPlayerRequest value = new GetFriendLeaderboardAroundPlayerRequest();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "CustomTags": value.CustomTags = PlayFabJson.readMap(in, stringAdapter); break;
+                        case "IncludeFacebookFriends": value.IncludeFacebookFriends = PlayFabJson.readBoolean(in); break;
+                        case "IncludeSteamFriends": value.IncludeSteamFriends = PlayFabJson.readBoolean(in); break;
+                        case "MaxResultsCount": value.MaxResultsCount = PlayFabJson.readInteger(in); break;
+                        case "PlayFabId": value.PlayFabId = PlayFabJson.readString(in); break;
+                        case "ProfileConstraints": value.ProfileConstraints = playerProfileViewConstraintsAdapter.read(in); break;
+                        case "StatisticName": value.StatisticName = PlayFabJson.readString(in); break;
+                        case "Version": value.Version = PlayFabJson.readInteger(in); break;
+                        case "XboxToken": value.XboxToken = PlayFabJson.readString(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class GetFriendLeaderboardAroundPlayerResultAdapter extends TypeAdapter<GetFriendLeaderboardAroundPlayerResult> {
+        private final TypeAdapter<PlayerLeaderboardEntry> playerLeaderboardEntryAdapter;
+        private final TypeAdapter<Date> dateAdapter;
+
+        private GetFriendLeaderboardAroundPlayerResultAdapter(Gson gson) {
+            playerLeaderboardEntryAdapter = gson.getAdapter(PlayerLeaderboardEntry.class);
+            dateAdapter = gson.getAdapter(Date.class);
+        }
+
+        @Override
+        public void write(JsonWriter out, GetFriendLeaderboardAroundPlayerResult value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            PlayFabJson.writeList(out.name("Leaderboard"), value.Leaderboard, playerLeaderboardEntryAdapter);
+            dateAdapter.write(out.name("NextReset"), value.NextReset);
+            out.name("Version").value(value.Version);
+            out.endObject();
+        }
+
+        @Override
+        public GetFriendLeaderboardAroundPlayerResult read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            GetFriendLeaderboardAroundPlayerResult value = new GetFriendLeaderboardAroundPlayerResult();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "Leaderboard": value.Leaderboard = PlayFabJson.readList(in, playerLeaderboardEntryAdapter); break;
+                        case "NextReset": value.NextReset = dateAdapter.read(in); break;
+                        case "Version": value.Version = PlayFabJson.readInteger(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class GetFriendLeaderboardRequestAdapter extends TypeAdapter<GetFriendLeaderboardRequest> {
+        private final TypeAdapter<String> stringAdapter;
+        private final TypeAdapter<PlayerProfileViewConstraints> playerProfileViewConstraintsAdapter;
+
+        private GetFriendLeaderboardRequestAdapter(Gson gson) {
+            stringAdapter = gson.getAdapter(String.class);
+            playerProfileViewConstraintsAdapter = gson.getAdapter(PlayerProfileViewConstraints.class);
+        }
+
+        @Override
+        public void write(JsonWriter out, GetFriendLeaderboardRequest value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            PlayFabJson.writeMap(out.name("CustomTags"), value.CustomTags, stringAdapter);
+            out.name("IncludeFacebookFriends").value(value.IncludeFacebookFriends);
+            out.name("IncludeSteamFriends").value(value.IncludeSteamFriends);
+            out.name("MaxResultsCount").value(value.MaxResultsCount);
+            playerProfileViewConstraintsAdapter.write(out.name("ProfileConstraints"), value.ProfileConstraints);
+            out.name("StartPosition").value(value.StartPosition);
+            out.name("StatisticName").value(value.StatisticName);
+            out.name("Version").value(value.Version);
+            out.name("XboxToken").value(value.XboxToken);
+            out.endObject();
+        }
+
+        @Override
+        public GetFriendLeaderboardRequest read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            GetFriendLeaderboardRequest value = new GetFriendLeaderboardRequest();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "CustomTags": value.CustomTags = PlayFabJson.readMap(in, stringAdapter); break;
+                        case "IncludeFacebookFriends": value.IncludeFacebookFriends = PlayFabJson.readBoolean(in); break;
+                        case "IncludeSteamFriends": value.IncludeSteamFriends = PlayFabJson.readBoolean(in); break;
+                        case "MaxResultsCount": value.MaxResultsCount = PlayFabJson.readInteger(in); break;
+                        case "ProfileConstraints": value.ProfileConstraints = playerProfileViewConstraintsAdapter.read(in); break;
+                        case "StartPosition": value.StartPosition = PlayFabJson.readInteger(in); break;
+                        case "StatisticName": value.StatisticName = PlayFabJson.readString(in); break;
+                        case "Version": value.Version = PlayFabJson.readInteger(in); break;
+                        case "XboxToken": value.XboxToken = PlayFabJson.readString(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class GetFriendsListRequestAdapter extends TypeAdapter<GetFriendsListRequest> {
+        private final TypeAdapter<String> stringAdapter;
+        private final TypeAdapter<PlayerProfileViewConstraints> playerProfileViewConstraintsAdapter;
+
+        private GetFriendsListRequestAdapter(Gson gson) {
+            stringAdapter = gson.getAdapter(String.class);
+            playerProfileViewConstraintsAdapter = gson.getAdapter(PlayerProfileViewConstraints.class);
+        }
+
+        @Override
+        public void write(JsonWriter out, GetFriendsListRequest value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            PlayFabJson.writeMap(out.name("CustomTags"), value.CustomTags, stringAdapter);
+            out.name("IncludeFacebookFriends").value(value.IncludeFacebookFriends);
+            out.name("IncludeSteamFriends").value(value.IncludeSteamFriends);
+            playerProfileViewConstraintsAdapter.write(out.name("ProfileConstraints"), value.ProfileConstraints);
+            out.name("XboxToken").value(value.XboxToken);
+            out.endObject();
+        }
+
+        @Override
+        public GetFriendsListRequest read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            GetFriendsListRequest value = new GetFriendsListRequest();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "CustomTags": value.CustomTags = PlayFabJson.readMap(in, stringAdapter); break;
+                        case "IncludeFacebookFriends": value.IncludeFacebookFriends = PlayFabJson.readBoolean(in); break;
+                        case "IncludeSteamFriends": value.IncludeSteamFriends = PlayFabJson.readBoolean(in); break;
+                        case "ProfileConstraints": value.ProfileConstraints = playerProfileViewConstraintsAdapter.read(in); break;
+                        case "XboxToken": value.XboxToken = PlayFabJson.readString(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class GetFriendsListResultAdapter extends TypeAdapter<GetFriendsListResult> {
+        private final TypeAdapter<FriendInfo> friendInfoAdapter;
+
+        private GetFriendsListResultAdapter(Gson gson) {
+            friendInfoAdapter = gson.getAdapter(FriendInfo.class);
+        }
+
+        @Override
+        public void write(JsonWriter out, GetFriendsListResult value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            PlayFabJson.writeList(out.name("Friends"), value.Friends, friendInfoAdapter);
+            out.endObject();
+        }
+
+        @Override
+        public GetFriendsListResult read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            GetFriendsListResult value = new GetFriendsListResult();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "Friends": value.Friends = PlayFabJson.readList(in, friendInfoAdapter); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class GetLeaderboardAroundCharacterRequestAdapter extends TypeAdapter<GetLeaderboardAroundCharacterRequest> {
+        private GetLeaderboardAroundCharacterRequestAdapter(Gson gson) {
+        }
+
+        @Override
+        public void write(JsonWriter out, GetLeaderboardAroundCharacterRequest value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.name("CharacterId").value(value.CharacterId);
+            out.name("CharacterType").value(value.CharacterType);
+            out.name("MaxResultsCount").value(value.MaxResultsCount);
+            out.name("StatisticName").value(value.StatisticName);
+            out.endObject();
+        }
+
+        @Override
+        public GetLeaderboardAroundCharacterRequest read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            GetLeaderboardAroundCharacterRequest value = new GetLeaderboardAroundCharacterRequest();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "CharacterId": value.CharacterId = PlayFabJson.readString(in); break;
+                        case "CharacterType": value.CharacterType = PlayFabJson.readString(in); break;
+                        case "MaxResultsCount": value.MaxResultsCount = PlayFabJson.readInteger(in); break;
+                        case "StatisticName": value.StatisticName = PlayFabJson.readString(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class GetLeaderboardAroundCharacterResultAdapter extends TypeAdapter<GetLeaderboardAroundCharacterResult> {
+        private final TypeAdapter<CharacterLeaderboardEntry> characterLeaderboardEntryAdapter;
+
+        private GetLeaderboardAroundCharacterResultAdapter(Gson gson) {
+            characterLeaderboardEntryAdapter = gson.getAdapter(CharacterLeaderboardEntry.class);
+        }
+
+        @Override
+        public void write(JsonWriter out, GetLeaderboardAroundCharacterResult value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            PlayFabJson.writeList(out.name("Leaderboard"), value.Leaderboard, characterLeaderboardEntryAdapter);
+            out.endObject();
+        }
+
+        @Override
+        public GetLeaderboardAroundCharacterResult read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            GetLeaderboardAroundCharacterResult value = new GetLeaderboardAroundCharacterResult();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "Leaderboard": value.Leaderboard = PlayFabJson.readList(in, characterLeaderboardEntryAdapter); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class GetLeaderboardAroundPlayerRequestAdapter extends TypeAdapter<GetLeaderboardAroundPlayerRequest> {
+        private final TypeAdapter<String> stringAdapter;
+        private final TypeAdapter<PlayerProfileViewConstraints> playerProfileViewConstraintsAdapter;
+
+        private GetLeaderboardAroundPlayerRequestAdapter(Gson gson) {
+            stringAdapter = gson.getAdapter(String.class);
+            playerProfileViewConstraintsAdapter = gson.getAdapter(PlayerProfileViewConstraints.class);
+        }
+
+        @Override
+        public void write(JsonWriter out, GetLeaderboardAroundPlayerRequest value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            PlayFabJson.writeMap(out.name("CustomTags"), value.CustomTags, stringAdapter);
+            out.name("MaxResultsCount").value(value.MaxResultsCount);
+            out.name("PlayFabId").value(value.PlayFabId);
+            playerProfileViewConstraintsAdapter.write(out.name("ProfileConstraints"), value.ProfileConstraints);
+            out.name("StatisticName").value(value.StatisticName);
+            out.name("Version").value(value.Version);
+            out.endObject();
+        }
+
+        @Override
+        public GetLeaderboardAroundPlayerRequest read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            GetLeaderboardAroundPlayerRequest value = new GetLeaderboardAroundPlayerRequest();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "CustomTags": value.CustomTags = PlayFabJson.readMap(in, stringAdapter); break;
+                        case "MaxResultsCount": value.MaxResultsCount = PlayFabJson.readInteger(in); break;
+                        case "PlayFabId": value.PlayFabId = PlayFabJson.readString(in); break;
+                        case "ProfileConstraints": value.ProfileConstraints = playerProfileViewConstraintsAdapter.read(in); break;
+                        case "StatisticName": value.StatisticName = PlayFabJson.readString(in); break;
+                        case "Version": value.Version = PlayFabJson.readInteger(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class GetLeaderboardAroundPlayerResultAdapter extends TypeAdapter<GetLeaderboardAroundPlayerResult> {
+        private final TypeAdapter<PlayerLeaderboardEntry> playerLeaderboardEntryAdapter;
+        private final TypeAdapter<Date> dateAdapter;
+
+        private GetLeaderboardAroundPlayerResultAdapter(Gson gson) {
+            playerLeaderboardEntryAdapter = gson.getAdapter(PlayerLeaderboardEntry.class);
+            dateAdapter = gson.getAdapter(Date.class);
+        }
+
+        @Override
+        public void write(JsonWriter out, GetLeaderboardAroundPlayerResult value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            PlayFabJson.writeList(out.name("Leaderboard"), value.Leaderboard, playerLeaderboardEntryAdapter);
+            dateAdapter.write(out.name("NextReset"), value.NextReset);
+            out.name("Version").value(value.Version);
+            out.endObject();
+        }
+
+        @Override
+        public GetLeaderboardAroundPlayerResult read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            GetLeaderboardAroundPlayerResult value = new GetLeaderboardAroundPlayerResult();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "Leaderboard": value.Leaderboard = PlayFabJson.readList(in, playerLeaderboardEntryAdapter); break;
+                        case "NextReset": value.NextReset = dateAdapter.read(in); break;
+                        case "Version": value.Version = PlayFabJson.readInteger(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class GetLeaderboardForUsersCharactersRequestAdapter extends TypeAdapter<GetLeaderboardForUsersCharactersRequest> {
+        private GetLeaderboardForUsersCharactersRequestAdapter(Gson gson) {
+        }
+
+        @Override
+        public void write(JsonWriter out, GetLeaderboardForUsersCharactersRequest value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.name("StatisticName").value(value.StatisticName);
+            out.endObject();
+        }
+
+        @Override
+        public GetLeaderboardForUsersCharactersRequest read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            GetLeaderboardForUsersCharactersRequest value = new GetLeaderboardForUsersCharactersRequest();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "StatisticName": value.StatisticName = PlayFabJson.readString(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class GetLeaderboardForUsersCharactersResultAdapter extends TypeAdapter<GetLeaderboardForUsersCharactersResult> {
+        private final TypeAdapter<CharacterLeaderboardEntry> characterLeaderboardEntryAdapter;
+
+        private GetLeaderboardForUsersCharactersResultAdapter(Gson gson) {
+            characterLeaderboardEntryAdapter = gson.getAdapter(CharacterLeaderboardEntry.class);
+        }
+
+        @Override
+        public void write(JsonWriter out, GetLeaderboardForUsersCharactersResult value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            PlayFabJson.writeList(out.name("Leaderboard"), value.Leaderboard, characterLeaderboardEntryAdapter);
+            out.endObject();
+        }
+
+        @Override
+        public GetLeaderboardForUsersCharactersResult read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            GetLeaderboardForUsersCharactersResult value = new GetLeaderboardForUsersCharactersResult();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "Leaderboard": value.Leaderboard = PlayFabJson.readList(in, characterLeaderboardEntryAdapter); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class GetLeaderboardRequestAdapter extends TypeAdapter<GetLeaderboardRequest> {
+        private final TypeAdapter<String> stringAdapter;
+        private final TypeAdapter<PlayerProfileViewConstraints> playerProfileViewConstraintsAdapter;
+
+        private GetLeaderboardRequestAdapter(Gson gson) {
+            stringAdapter = gson.getAdapter(String.class);
+            playerProfileViewConstraintsAdapter = gson.getAdapter(PlayerProfileViewConstraints.class);
+        }
+
+        @Override
+        public void write(JsonWriter out, GetLeaderboardRequest value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            PlayFabJson.writeMap(out.name("CustomTags"), value.CustomTags, stringAdapter);
+            out.name("MaxResultsCount").value(value.MaxResultsCount);
+            playerProfileViewConstraintsAdapter.write(out.name("ProfileConstraints"), value.ProfileConstraints);
+            out.name("StartPosition").value(value.StartPosition);
+            out.name("StatisticName").value(value.StatisticName);
+            out.name("Version").value(value.Version);
+            out.endObject();
+        }
+
+        @Override
+        public GetLeaderboardRequest read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            GetLeaderboardRequest value = new GetLeaderboardRequest();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "CustomTags": value.CustomTags = PlayFabJson.readMap(in, stringAdapter); break;
+                        case "MaxResultsCount": value.MaxResultsCount = PlayFabJson.readInteger(in); break;
+                        case "ProfileConstraints": value.ProfileConstraints = playerProfileViewConstraintsAdapter.read(in); break;
+                        case "StartPosition": value.StartPosition = PlayFabJson.readInteger(in); break;
+                        case "StatisticName": value.StatisticName = PlayFabJson.readString(in); break;
+                        case "Version": value.Version = PlayFabJson.readInteger(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class GetLeaderboardResultAdapter extends TypeAdapter<GetLeaderboardResult> {
+        private final TypeAdapter<PlayerLeaderboardEntry> playerLeaderboardEntryAdapter;
+        private final TypeAdapter<Date> dateAdapter;
+
+        private GetLeaderboardResultAdapter(Gson gson) {
+            playerLeaderboardEntryAdapter = gson.getAdapter(PlayerLeaderboardEntry.class);
+            dateAdapter = gson.getAdapter(Date.class);
+        }
+
+        @Override
+        public void write(JsonWriter out, GetLeaderboardResult value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            PlayFabJson.writeList(out.name("Leaderboard"), value.Leaderboard, playerLeaderboardEntryAdapter);
+            dateAdapter.write(out.name("NextReset"), value.NextReset);
+            out.name("Version").value(value.Version);
+            out.endObject();
+        }
+
+        @Override
+        public GetLeaderboardResult read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            GetLeaderboardResult value = new GetLeaderboardResult();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "Leaderboard": value.Leaderboard = PlayFabJson.readList(in, playerLeaderboardEntryAdapter); break;
+                        case "NextReset": value.NextReset = dateAdapter.read(in); break;
+                        case "Version": value.Version = PlayFabJson.readInteger(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class GetPaymentTokenRequestAdapter extends TypeAdapter<GetPaymentTokenRequest> {
+        private GetPaymentTokenRequestAdapter(Gson gson) {
+        }
+
+        @Override
+        public void write(JsonWriter out, GetPaymentTokenRequest value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.name("TokenProvider").value(value.TokenProvider);
+            out.endObject();
+        }
+
+        @Override
+        public GetPaymentTokenRequest read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            GetPaymentTokenRequest value = new GetPaymentTokenRequest();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "TokenProvider": value.TokenProvider = PlayFabJson.readString(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class GetPaymentTokenResultAdapter extends TypeAdapter<GetPaymentTokenResult> {
+        private GetPaymentTokenResultAdapter(Gson gson) {
+        }
+
+        @Override
+        public void write(JsonWriter out, GetPaymentTokenResult value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.name("OrderId").value(value.OrderId);
+            out.name("ProviderToken").value(value.ProviderToken);
+            out.endObject();
+        }
+
+        @Override
+        public GetPaymentTokenResult read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            GetPaymentTokenResult value = new GetPaymentTokenResult();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "OrderId": value.OrderId = PlayFabJson.readString(in); break;
+                        case "ProviderToken": value.ProviderToken = PlayFabJson.readString(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class GetPhotonAuthenticationTokenRequestAdapter extends TypeAdapter<GetPhotonAuthenticationTokenRequest> {
+        private GetPhotonAuthenticationTokenRequestAdapter(Gson gson) {
+        }
+
+        @Override
+        public void write(JsonWriter out, GetPhotonAuthenticationTokenRequest value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.name("PhotonApplicationId").value(value.PhotonApplicationId);
+            out.endObject();
+        }
+
+        @Override
+        public GetPhotonAuthenticationTokenRequest read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            GetPhotonAuthenticationTokenRequest value = new GetPhotonAuthenticationTokenRequest();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "PhotonApplicationId": value.PhotonApplicationId = PlayFabJson.readString(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class GetPhotonAuthenticationTokenResultAdapter extends TypeAdapter<GetPhotonAuthenticationTokenResult> {
+        private GetPhotonAuthenticationTokenResultAdapter(Gson gson) {
+        }
+
+        @Override
+        public void write(JsonWriter out, GetPhotonAuthenticationTokenResult value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.name("PhotonCustomAuthenticationToken").value(value.PhotonCustomAuthenticationToken);
+            out.endObject();
+        }
+
+        @Override
+        public GetPhotonAuthenticationTokenResult read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            GetPhotonAuthenticationTokenResult value = new GetPhotonAuthenticationTokenResult();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "PhotonCustomAuthenticationToken": value.PhotonCustomAuthenticationToken = PlayFabJson.readString(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class GetPlayerCombinedInfoRequestAdapter extends TypeAdapter<GetPlayerCombinedInfoRequest> {
+        private final TypeAdapter<String> stringAdapter;
+        private final TypeAdapter<GetPlayerCombinedInfoRequestParams> getPlayerCombinedInfoRequestParamsAdapter;
+
+        private GetPlayerCombinedInfoRequestAdapter(Gson gson) {
+            stringAdapter = gson.getAdapter(String.class);
+            getPlayerCombinedInfoRequestParamsAdapter = gson.getAdapter(GetPlayerCombinedInfoRequestParams.class);
+        }
+
+        @Override
+        public void write(JsonWriter out, GetPlayerCombinedInfoRequest value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            PlayFabJson.writeMap(out.name("CustomTags"), value.CustomTags, stringAdapter);
+            getPlayerCombinedInfoRequestParamsAdapter.write(out.name("InfoRequestParameters"), value.InfoRequestParameters);
+            out.name("PlayFabId").value(value.PlayFabId);
+            out.endObject();
+        }
+
+        @Override
+        public GetPlayerCombinedInfoRequest read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            GetPlayerCombinedInfoRequest value = new GetPlayerCombinedInfoRequest();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "CustomTags": value.CustomTags = PlayFabJson.readMap(in, stringAdapter); break;
+                        case "InfoRequestParameters": value.InfoRequestParameters = getPlayerCombinedInfoRequestParamsAdapter.read(in); break;
+                        case "PlayFabId": value.PlayFabId = PlayFabJson.readString(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class GetPlayerCombinedInfoRequestParamsAdapter extends TypeAdapter<GetPlayerCombinedInfoRequestParams> {
+        private final TypeAdapter<String> stringAdapter;
+        private final TypeAdapter<PlayerProfileViewConstraints> playerProfileViewConstraintsAdapter;
+
+        private GetPlayerCombinedInfoRequestParamsAdapter(Gson gson) {
+            stringAdapter = gson.getAdapter(String.class);
+            playerProfileViewConstraintsAdapter = gson.getAdapter(PlayerProfileViewConstraints.class);
+        }
+
+        @Override
+        public void write(JsonWriter out, GetPlayerCombinedInfoRequestParams value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.name("GetCharacterInventories").value(value.GetCharacterInventories);
+            out.name("GetCharacterList").value(value.GetCharacterList);
+            out.name("GetPlayerProfile").value(value.GetPlayerProfile);
+            out.name("GetPlayerStatistics").value(value.GetPlayerStatistics);
+            out.name("GetTitleData").value(value.GetTitleData);
+            out.name("GetUserAccountInfo").value(value.GetUserAccountInfo);
+            out.name("GetUserData").value(value.GetUserData);
+            out.name("GetUserInventory").value(value.GetUserInventory);
+            out.name("GetUserReadOnlyData").value(value.GetUserReadOnlyData);
+            out.name("GetUserVirtualCurrency").value(value.GetUserVirtualCurrency);
+            PlayFabJson.writeList(out.name("PlayerStatisticNames"), value.PlayerStatisticNames, stringAdapter);
+            playerProfileViewConstraintsAdapter.write(out.name("ProfileConstraints"), value.ProfileConstraints);
+            PlayFabJson.writeList(out.name("TitleDataKeys"), value.TitleDataKeys, stringAdapter);
+            PlayFabJson.writeList(out.name("UserDataKeys"), value.UserDataKeys, stringAdapter);
+            PlayFabJson.writeList(out.name("UserReadOnlyDataKeys"), value.UserReadOnlyDataKeys, stringAdapter);
+            out.endObject();
+        }
+
+        @Override
+        public GetPlayerCombinedInfoRequestParams read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            GetPlayerCombinedInfoRequestParams value = new GetPlayerCombinedInfoRequestParams();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "GetCharacterInventories": value.GetCharacterInventories = PlayFabJson.readBoolean(in); break;
+                        case "GetCharacterList": value.GetCharacterList = PlayFabJson.readBoolean(in); break;
+                        case "GetPlayerProfile": value.GetPlayerProfile = PlayFabJson.readBoolean(in); break;
+                        case "GetPlayerStatistics": value.GetPlayerStatistics = PlayFabJson.readBoolean(in); break;
+                        case "GetTitleData": value.GetTitleData = PlayFabJson.readBoolean(in); break;
+                        case "GetUserAccountInfo": value.GetUserAccountInfo = PlayFabJson.readBoolean(in); break;
+                        case "GetUserData": value.GetUserData = PlayFabJson.readBoolean(in); break;
+                        case "GetUserInventory": value.GetUserInventory = PlayFabJson.readBoolean(in); break;
+                        case "GetUserReadOnlyData": value.GetUserReadOnlyData = PlayFabJson.readBoolean(in); break;
+                        case "GetUserVirtualCurrency": value.GetUserVirtualCurrency = PlayFabJson.readBoolean(in); break;
+                        case "PlayerStatisticNames": value.PlayerStatisticNames = PlayFabJson.readList(in, stringAdapter); break;
+                        case "ProfileConstraints": value.ProfileConstraints = playerProfileViewConstraintsAdapter.read(in); break;
+                        case "TitleDataKeys": value.TitleDataKeys = PlayFabJson.readList(in, stringAdapter); break;
+                        case "UserDataKeys": value.UserDataKeys = PlayFabJson.readList(in, stringAdapter); break;
+                        case "UserReadOnlyDataKeys": value.UserReadOnlyDataKeys = PlayFabJson.readList(in, stringAdapter); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class GetPlayerCombinedInfoResultAdapter extends TypeAdapter<GetPlayerCombinedInfoResult> {
+        private final TypeAdapter<GetPlayerCombinedInfoResultPayload> getPlayerCombinedInfoResultPayloadAdapter;
+
+        private GetPlayerCombinedInfoResultAdapter(Gson gson) {
+            getPlayerCombinedInfoResultPayloadAdapter = gson.getAdapter(GetPlayerCombinedInfoResultPayload.class);
+        }
+
+        @Override
+        public void write(JsonWriter out, GetPlayerCombinedInfoResult value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            getPlayerCombinedInfoResultPayloadAdapter.write(out.name("InfoResultPayload"), value.InfoResultPayload);
+            out.name("PlayFabId").value(value.PlayFabId);
+            out.endObject();
+        }
+
+        @Override
+        public GetPlayerCombinedInfoResult read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            GetPlayerCombinedInfoResult value = new GetPlayerCombinedInfoResult();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "InfoResultPayload": value.InfoResultPayload = getPlayerCombinedInfoResultPayloadAdapter.read(in); break;
+                        case "PlayFabId": value.PlayFabId = PlayFabJson.readString(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class GetPlayerCombinedInfoResultPayloadAdapter extends TypeAdapter<GetPlayerCombinedInfoResultPayload> {
+        private final TypeAdapter<UserAccountInfo> userAccountInfoAdapter;
+        private final TypeAdapter<CharacterInventory> characterInventoryAdapter;
+        private final TypeAdapter<CharacterResult> characterResultAdapter;
+        private final TypeAdapter<PlayerProfileModel> playerProfileModelAdapter;
+        private final TypeAdapter<StatisticValue> statisticValueAdapter;
+        private final TypeAdapter<String> stringAdapter;
+        private final TypeAdapter<UserDataRecord> userDataRecordAdapter;
+        private final TypeAdapter<ItemInstance> itemInstanceAdapter;
+        private final TypeAdapter<Integer> integerAdapter;
+        private final TypeAdapter<VirtualCurrencyRechargeTime> virtualCurrencyRechargeTimeAdapter;
+
+        private GetPlayerCombinedInfoResultPayloadAdapter(Gson gson) {
+            userAccountInfoAdapter = gson.getAdapter(UserAccountInfo.class);
+            characterInventoryAdapter = gson.getAdapter(CharacterInventory.class);
+            characterResultAdapter = gson.getAdapter(CharacterResult.class);
+            playerProfileModelAdapter = gson.getAdapter(PlayerProfileModel.class);
+            statisticValueAdapter = gson.getAdapter(StatisticValue.class);
+            stringAdapter = gson.getAdapter(String.class);
+            userDataRecordAdapter = gson.getAdapter(UserDataRecord.class);
+            itemInstanceAdapter = gson.getAdapter(ItemInstance.class);
+            integerAdapter = gson.getAdapter(Integer.class);
+            virtualCurrencyRechargeTimeAdapter = gson.getAdapter(VirtualCurrencyRechargeTime.class);
+        }
+
+        @Override
+        public void write(JsonWriter out, GetPlayerCombinedInfoResultPayload value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            userAccountInfoAdapter.write(out.name("AccountInfo"), value.AccountInfo);
+            PlayFabJson.writeList(out.name("CharacterInventories"), value.CharacterInventories, characterInventoryAdapter);
+            PlayFabJson.writeList(out.name("CharacterList"), value.CharacterList, characterResultAdapter);
+            playerProfileModelAdapter.write(out.name("PlayerProfile"), value.PlayerProfile);
+            PlayFabJson.writeList(out.name("PlayerStatistics"), value.PlayerStatistics, statisticValueAdapter);
+            PlayFabJson.writeMap(out.name("TitleData"), value.TitleData, stringAdapter);
+            PlayFabJson.writeMap(out.name("UserData"), value.UserData, userDataRecordAdapter);
+            out.name("UserDataVersion").value(value.UserDataVersion);
+            PlayFabJson.writeList(out.name("UserInventory"), value.UserInventory, itemInstanceAdapter);
+            PlayFabJson.writeMap(out.name("UserReadOnlyData"), value.UserReadOnlyData, userDataRecordAdapter);
+            out.name("UserReadOnlyDataVersion").value(value.UserReadOnlyDataVersion);
+            PlayFabJson.writeMap(out.name("UserVirtualCurrency"), value.UserVirtualCurrency, integerAdapter);
+            PlayFabJson.writeMap(out.name("UserVirtualCurrencyRechargeTimes"), value.UserVirtualCurrencyRechargeTimes, virtualCurrencyRechargeTimeAdapter);
+            out.endObject();
+        }
+
+        @Override
+        public GetPlayerCombinedInfoResultPayload read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            GetPlayerCombinedInfoResultPayload value = new GetPlayerCombinedInfoResultPayload();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "AccountInfo": value.AccountInfo = userAccountInfoAdapter.read(in); break;
+                        case "CharacterInventories": value.CharacterInventories = PlayFabJson.readList(in, characterInventoryAdapter); break;
+                        case "CharacterList": value.CharacterList = PlayFabJson.readList(in, characterResultAdapter); break;
+                        case "PlayerProfile": value.PlayerProfile = playerProfileModelAdapter.read(in); break;
+                        case "PlayerStatistics": value.PlayerStatistics = PlayFabJson.readList(in, statisticValueAdapter); break;
+                        case "TitleData": value.TitleData = PlayFabJson.readMap(in, stringAdapter); break;
+                        case "UserData": value.UserData = PlayFabJson.readMap(in, userDataRecordAdapter); break;
+                        case "UserDataVersion": value.UserDataVersion = PlayFabJson.readLong(in); break;
+                        case "UserInventory": value.UserInventory = PlayFabJson.readList(in, itemInstanceAdapter); break;
+                        case "UserReadOnlyData": value.UserReadOnlyData = PlayFabJson.readMap(in, userDataRecordAdapter); break;
+                        case "UserReadOnlyDataVersion": value.UserReadOnlyDataVersion = PlayFabJson.readLong(in); break;
+                        case "UserVirtualCurrency": value.UserVirtualCurrency = PlayFabJson.readMap(in, integerAdapter); break;
+                        case "UserVirtualCurrencyRechargeTimes": value.UserVirtualCurrencyRechargeTimes = PlayFabJson.readMap(in, virtualCurrencyRechargeTimeAdapter); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class GetPlayerProfileRequestAdapter extends TypeAdapter<GetPlayerProfileRequest> {
+        private final TypeAdapter<String> stringAdapter;
+        private final TypeAdapter<PlayerProfileViewConstraints> playerProfileViewConstraintsAdapter;
+
+        private GetPlayerProfileRequestAdapter(Gson gson) {
+            stringAdapter = gson.getAdapter(String.class);
+            playerProfileViewConstraintsAdapter = gson.getAdapter(PlayerProfileViewConstraints.class);
+        }
+
+        @Override
+        public void write(JsonWriter out, GetPlayerProfileRequest value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            PlayFabJson.writeMap(out.name("CustomTags"), value.CustomTags, stringAdapter);
+            out.name("PlayFabId").value(value.PlayFabId);
+            playerProfileViewConstraintsAdapter.write(out.name("ProfileConstraints"), value.ProfileConstraints);
+            out.endObject();
+        }
+
+        @Override
+        public GetPlayerProfileRequest read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            GetPlayerProfileRequest value = new GetPlayerProfileRequest();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "CustomTags": value.CustomTags = PlayFabJson.readMap(in, stringAdapter); break;
+                        case "PlayFabId": value.PlayFabId = PlayFabJson.readString(in); break;
+                        case "ProfileConstraints": value.ProfileConstraints = playerProfileViewConstraintsAdapter.read(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class GetPlayerProfileResultAdapter extends TypeAdapter<GetPlayerProfileResult> {
+        private final TypeAdapter<PlayerProfileModel> playerProfileModelAdapter;
+
+        private GetPlayerProfileResultAdapter(Gson gson) {
+            playerProfileModelAdapter = gson.getAdapter(PlayerProfileModel.class);
+        }
+
+        @Override
+        public void write(JsonWriter out, GetPlayerProfileResult value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            playerProfileModelAdapter.write(out.name("PlayerProfile"), value.PlayerProfile);
+            out.endObject();
+        }
+
+        @Override
+        public GetPlayerProfileResult read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            GetPlayerProfileResult value = new GetPlayerProfileResult();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "PlayerProfile": value.PlayerProfile = playerProfileModelAdapter.read(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class GetPlayerSegmentsRequestAdapter extends TypeAdapter<GetPlayerSegmentsRequest> {
+        private GetPlayerSegmentsRequestAdapter(Gson gson) {
+        }
+
+        @Override
+        public void write(JsonWriter out, GetPlayerSegmentsRequest value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.endObject();
+        }
+
+        @Override
+        public GetPlayerSegmentsRequest read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            GetPlayerSegmentsRequest value = new GetPlayerSegmentsRequest();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class GetPlayerSegmentsResultAdapter extends TypeAdapter<GetPlayerSegmentsResult> {
+        private final TypeAdapter<GetSegmentResult> getSegmentResultAdapter;
+
+        private GetPlayerSegmentsResultAdapter(Gson gson) {
+            getSegmentResultAdapter = gson.getAdapter(GetSegmentResult.class);
+        }
+
+        @Override
+        public void write(JsonWriter out, GetPlayerSegmentsResult value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            PlayFabJson.writeList(out.name("Segments"), value.Segments, getSegmentResultAdapter);
+            out.endObject();
+        }
+
+        @Override
+        public GetPlayerSegmentsResult read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            GetPlayerSegmentsResult value = new GetPlayerSegmentsResult();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "Segments": value.Segments = PlayFabJson.readList(in, getSegmentResultAdapter); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class GetPlayerStatisticsRequestAdapter extends TypeAdapter<GetPlayerStatisticsRequest> {
+        private final TypeAdapter<String> stringAdapter;
+        private final TypeAdapter<StatisticNameVersion> statisticNameVersionAdapter;
+
+        private GetPlayerStatisticsRequestAdapter(Gson gson) {
+            stringAdapter = gson.getAdapter(String.class);
+            statisticNameVersionAdapter = gson.getAdapter(StatisticNameVersion.class);
+        }
+
+        @Override
+        public void write(JsonWriter out, GetPlayerStatisticsRequest value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            PlayFabJson.writeMap(out.name("CustomTags"), value.CustomTags, stringAdapter);
+            PlayFabJson.writeList(out.name("StatisticNames"), value.StatisticNames, stringAdapter);
+            PlayFabJson.writeList(out.name("StatisticNameVersions"), value.StatisticNameVersions, statisticNameVersionAdapter);
+            out.endObject();
+        }
+
+        @Override
+        public GetPlayerStatisticsRequest read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            GetPlayerStatisticsRequest value = new GetPlayerStatisticsRequest();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "CustomTags": value.CustomTags = PlayFabJson.readMap(in, stringAdapter); break;
+                        case "StatisticNames": value.StatisticNames = PlayFabJson.readList(in, stringAdapter); break;
+                        case "StatisticNameVersions": value.StatisticNameVersions = PlayFabJson.readList(in, statisticNameVersionAdapter); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class GetPlayerStatisticsResultAdapter extends TypeAdapter<GetPlayerStatisticsResult> {
+        private final TypeAdapter<StatisticValue> statisticValueAdapter;
+
+        private GetPlayerStatisticsResultAdapter(Gson gson) {
+            statisticValueAdapter = gson.getAdapter(StatisticValue.class);
+        }
+
+        @Override
+        public void write(JsonWriter out, GetPlayerStatisticsResult value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            PlayFabJson.writeList(out.name("Statistics"), value.Statistics, statisticValueAdapter);
+            out.endObject();
+        }
+
+        @Override
+        public GetPlayerStatisticsResult read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            GetPlayerStatisticsResult value = new GetPlayerStatisticsResult();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "Statistics": value.Statistics = PlayFabJson.readList(in, statisticValueAdapter); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class GetPlayerStatisticVersionsRequestAdapter extends TypeAdapter<GetPlayerStatisticVersionsRequest> {
+        private final TypeAdapter<String> stringAdapter;
+
+        private GetPlayerStatisticVersionsRequestAdapter(Gson gson) {
+            stringAdapter = gson.getAdapter(String.class);
+        }
+
+        @Override
+        public void write(JsonWriter out, GetPlayerStatisticVersionsRequest value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            PlayFabJson.writeMap(out.name("CustomTags"), value.CustomTags, stringAdapter);
+            out.name("StatisticName").value(value.StatisticName);
+            out.endObject();
+        }
+
+        @Override
+        public GetPlayerStatisticVersionsRequest read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            GetPlayerStatisticVersionsRequest value = new GetPlayerStatisticVersionsRequest();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "CustomTags": value.CustomTags = PlayFabJson.readMap(in, stringAdapter); break;
+                        case "StatisticName": value.StatisticName = PlayFabJson.readString(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class GetPlayerStatisticVersionsResultAdapter extends TypeAdapter<GetPlayerStatisticVersionsResult> {
+        private final TypeAdapter<PlayerStatisticVersion> playerStatisticVersionAdapter;
+
+        private GetPlayerStatisticVersionsResultAdapter(Gson gson) {
+            playerStatisticVersionAdapter = gson.getAdapter(PlayerStatisticVersion.class);
+        }
+
+        @Override
+        public void write(JsonWriter out, GetPlayerStatisticVersionsResult value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            PlayFabJson.writeList(out.name("StatisticVersions"), value.StatisticVersions, playerStatisticVersionAdapter);
+            out.endObject();
+        }
+
+        @Override
+        public GetPlayerStatisticVersionsResult read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            GetPlayerStatisticVersionsResult value = new GetPlayerStatisticVersionsResult();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "StatisticVersions": value.StatisticVersions = PlayFabJson.readList(in, playerStatisticVersionAdapter); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class GetPlayerTagsRequestAdapter extends TypeAdapter<GetPlayerTagsRequest> {
+        private final TypeAdapter<String> stringAdapter;
+
+        private GetPlayerTagsRequestAdapter(Gson gson) {
+            stringAdapter = gson.getAdapter(String.class);
+        }
+
+        @Override
+        public void write(JsonWriter out, GetPlayerTagsRequest value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            PlayFabJson.writeMap(out.name("CustomTags"), value.CustomTags, stringAdapter);
+            out.name("Namespace").value(value.Namespace);
+            out.name("PlayFabId").value(value.PlayFabId);
+            out.endObject();
+        }
+
+        @Override
+        public GetPlayerTagsRequest read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            GetPlayerTagsRequest value = new GetPlayerTagsRequest();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "CustomTags": value.CustomTags = PlayFabJson.readMap(in, stringAdapter); break;
+                        case "Namespace": value.Namespace = PlayFabJson.readString(in); break;
+                        case "PlayFabId": value.PlayFabId = PlayFabJson.readString(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class GetPlayerTagsResultAdapter extends TypeAdapter<GetPlayerTagsResult> {
+        private final TypeAdapter<String> stringAdapter;
+
+        private GetPlayerTagsResultAdapter(Gson gson) {
+            stringAdapter = gson.getAdapter(String.class);
+        }
+
+        @Override
+        public void write(JsonWriter out, GetPlayerTagsResult value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.name("PlayFabId").value(value.PlayFabId);
+            PlayFabJson.writeList(out.name("Tags"), value.Tags, stringAdapter);
+            out.endObject();
+        }
+
+        @Override
+        public GetPlayerTagsResult read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            GetPlayerTagsResult value = new GetPlayerTagsResult();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "PlayFabId": value.PlayFabId = PlayFabJson.readString(in); break;
+                        case "Tags": value.Tags = PlayFabJson.readList(in, stringAdapter); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class GetPlayerTradesRequestAdapter extends TypeAdapter<GetPlayerTradesRequest> {
+        private final TypeAdapter<TradeStatus> tradeStatusAdapter;
+
+        private GetPlayerTradesRequestAdapter(Gson gson) {
+            tradeStatusAdapter = gson.getAdapter(TradeStatus.class);
+        }
+
+        @Override
+        public void write(JsonWriter out, GetPlayerTradesRequest value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            tradeStatusAdapter.write(out.name("StatusFilter"), value.StatusFilter);
+            out.endObject();
+        }
+
+        @Override
+        public GetPlayerTradesRequest read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            GetPlayerTradesRequest value = new GetPlayerTradesRequest();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "StatusFilter": value.StatusFilter = tradeStatusAdapter.read(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class GetPlayerTradesResponseAdapter extends TypeAdapter<GetPlayerTradesResponse> {
+        private final TypeAdapter<TradeInfo> tradeInfoAdapter;
+
+        private GetPlayerTradesResponseAdapter(Gson gson) {
+            tradeInfoAdapter = gson.getAdapter(TradeInfo.class);
+        }
+
+        @Override
+        public void write(JsonWriter out, GetPlayerTradesResponse value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            PlayFabJson.writeList(out.name("AcceptedTrades"), value.AcceptedTrades, tradeInfoAdapter);
+            PlayFabJson.writeList(out.name("OpenedTrades"), value.OpenedTrades, tradeInfoAdapter);
+            out.endObject();
+        }
+
+        @Override
+        public GetPlayerTradesResponse read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            GetPlayerTradesResponse value = new GetPlayerTradesResponse();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "AcceptedTrades": value.AcceptedTrades = PlayFabJson.readList(in, tradeInfoAdapter); break;
+                        case "OpenedTrades": value.OpenedTrades = PlayFabJson.readList(in, tradeInfoAdapter); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class GetPlayFabIDsFromFacebookIDsRequestAdapter extends TypeAdapter<GetPlayFabIDsFromFacebookIDsRequest> {
+        private final TypeAdapter<String> stringAdapter;
+
+        private GetPlayFabIDsFromFacebookIDsRequestAdapter(Gson gson) {
+            stringAdapter = gson.getAdapter(String.class);
+        }
+
+        @Override
+        public void write(JsonWriter out, GetPlayFabIDsFromFacebookIDsRequest value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            PlayFabJson.writeList(out.name("FacebookIDs"), value.FacebookIDs, stringAdapter);
+            out.endObject();
+        }
+
+        @Override
+        public GetPlayFabIDsFromFacebookIDsRequest read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            GetPlayFabIDsFromFacebookIDsRequest value = new GetPlayFabIDsFromFacebookIDsRequest();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "FacebookIDs": value.FacebookIDs = PlayFabJson.readList(in, stringAdapter); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class GetPlayFabIDsFromFacebookIDsResultAdapter extends TypeAdapter<GetPlayFabIDsFromFacebookIDsResult> {
+        private final TypeAdapter<FacebookPlayFabIdPair> facebookPlayFabIdPairAdapter;
+
+        private GetPlayFabIDsFromFacebookIDsResultAdapter(Gson gson) {
+            facebookPlayFabIdPairAdapter = gson.getAdapter(FacebookPlayFabIdPair.class);
+        }
+
+        @Override
+        public void write(JsonWriter out, GetPlayFabIDsFromFacebookIDsResult value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            PlayFabJson.writeList(out.name("Data"), value.Data, facebookPlayFabIdPairAdapter);
+            out.endObject();
+        }
+
+        @Override
+        public GetPlayFabIDsFromFacebookIDsResult read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            GetPlayFabIDsFromFacebookIDsResult value = new GetPlayFabIDsFromFacebookIDsResult();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "Data": value.Data = PlayFabJson.readList(in, facebookPlayFabIdPairAdapter); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class GetPlayFabIDsFromFacebookInstantGamesIdsRequestAdapter extends TypeAdapter<GetPlayFabIDsFromFacebookInstantGamesIdsRequest> {
+        private final TypeAdapter<String> stringAdapter;
+
+        private GetPlayFabIDsFromFacebookInstantGamesIdsRequestAdapter(Gson gson) {
+            stringAdapter = gson.getAdapter(String.class);
+        }
+
+        @Override
+        public void write(JsonWriter out, GetPlayFabIDsFromFacebookInstantGamesIdsRequest value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            PlayFabJson.writeList(out.name("FacebookInstantGamesIds"), value.FacebookInstantGamesIds, stringAdapter);
+            out.endObject();
+        }
+
+        @Override
+        public GetPlayFabIDsFromFacebookInstantGamesIdsRequest read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            GetPlayFabIDsFromFacebookInstantGamesIdsRequest value = new GetPlayFabIDsFromFacebookInstantGamesIdsRequest();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "FacebookInstantGamesIds": value.FacebookInstantGamesIds = PlayFabJson.readList(in, stringAdapter); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class GetPlayFabIDsFromFacebookInstantGamesIdsResultAdapter extends TypeAdapter<GetPlayFabIDsFromFacebookInstantGamesIdsResult> {
+        private final TypeAdapter<FacebookInstantGamesPlayFabIdPair> facebookInstantGamesPlayFabIdPairAdapter;
+
+        private GetPlayFabIDsFromFacebookInstantGamesIdsResultAdapter(Gson gson) {
+            facebookInstantGamesPlayFabIdPairAdapter = gson.getAdapter(FacebookInstantGamesPlayFabIdPair.class);
+        }
+
+        @Override
+        public void write(JsonWriter out, GetPlayFabIDsFromFacebookInstantGamesIdsResult value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            PlayFabJson.writeList(out.name("Data"), value.Data, facebookInstantGamesPlayFabIdPairAdapter);
+            out.endObject();
+        }
+
+        @Override
+        public GetPlayFabIDsFromFacebookInstantGamesIdsResult read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            GetPlayFabIDsFromFacebookInstantGamesIdsResult value = new GetPlayFabIDsFromFacebookInstantGamesIdsResult();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "Data": value.Data = PlayFabJson.readList(in, facebookInstantGamesPlayFabIdPairAdapter); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class GetPlayFabIDsFromGameCenterIDsRequestAdapter extends TypeAdapter<GetPlayFabIDsFromGameCenterIDsRequest> {
+        private final TypeAdapter<String> stringAdapter;
+
+        private GetPlayFabIDsFromGameCenterIDsRequestAdapter(Gson gson) {
+            stringAdapter = gson.getAdapter(String.class);
+        }
+
+        @Override
+        public void write(JsonWriter out, GetPlayFabIDsFromGameCenterIDsRequest value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            PlayFabJson.writeList(out.name("GameCenterIDs"), value.GameCenterIDs, stringAdapter);
+            out.endObject();
+        }
+
+        @Override
+        public GetPlayFabIDsFromGameCenterIDsRequest read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            GetPlayFabIDsFromGameCenterIDsRequest value = new GetPlayFabIDsFromGameCenterIDsRequest();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "GameCenterIDs": value.GameCenterIDs = PlayFabJson.readList(in, stringAdapter); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class GetPlayFabIDsFromGameCenterIDsResultAdapter extends TypeAdapter<GetPlayFabIDsFromGameCenterIDsResult> {
+        private final TypeAdapter<GameCenterPlayFabIdPair> gameCenterPlayFabIdPairAdapter;
+
+        private GetPlayFabIDsFromGameCenterIDsResultAdapter(Gson gson) {
+            gameCenterPlayFabIdPairAdapter = gson.getAdapter(GameCenterPlayFabIdPair.class);
+        }
+
+        @Override
+        public void write(JsonWriter out, GetPlayFabIDsFromGameCenterIDsResult value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            PlayFabJson.writeList(out.name("Data"), value.Data, gameCenterPlayFabIdPairAdapter);
+            out.endObject();
+        }
+
+        @Override
+        public GetPlayFabIDsFromGameCenterIDsResult read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            GetPlayFabIDsFromGameCenterIDsResult value = new GetPlayFabIDsFromGameCenterIDsResult();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "Data": value.Data = PlayFabJson.readList(in, gameCenterPlayFabIdPairAdapter); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class GetPlayFabIDsFromGenericIDsRequestAdapter extends TypeAdapter<GetPlayFabIDsFromGenericIDsRequest> {
+        private final TypeAdapter<GenericServiceId> genericServiceIdAdapter;
+
+        private GetPlayFabIDsFromGenericIDsRequestAdapter(Gson gson) {
+            genericServiceIdAdapter = gson.getAdapter(GenericServiceId.class);
+        }
+
+        @Override
+        public void write(JsonWriter out, GetPlayFabIDsFromGenericIDsRequest value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            PlayFabJson.writeList(out.name("GenericIDs"), value.GenericIDs, genericServiceIdAdapter);
+            out.endObject();
+        }
+
+        @Override
+        public GetPlayFabIDsFromGenericIDsRequest read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            GetPlayFabIDsFromGenericIDsRequest value = new GetPlayFabIDsFromGenericIDsRequest();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "GenericIDs": value.GenericIDs = PlayFabJson.readList(in, genericServiceIdAdapter); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class GetPlayFabIDsFromGenericIDsResultAdapter extends TypeAdapter<GetPlayFabIDsFromGenericIDsResult> {
+        private final TypeAdapter<GenericPlayFabIdPair> genericPlayFabIdPairAdapter;
+
+        private GetPlayFabIDsFromGenericIDsResultAdapter(Gson gson) {
+            genericPlayFabIdPairAdapter = gson.getAdapter(GenericPlayFabIdPair.class);
+        }
+
+        @Override
+        public void write(JsonWriter out, GetPlayFabIDsFromGenericIDsResult value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            PlayFabJson.writeList(out.name("Data"), value.Data, genericPlayFabIdPairAdapter);
+            out.endObject();
+        }
+
+        @Override
+        public GetPlayFabIDsFromGenericIDsResult read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            GetPlayFabIDsFromGenericIDsResult value = new GetPlayFabIDsFromGenericIDsResult();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "Data": value.Data = PlayFabJson.readList(in, genericPlayFabIdPairAdapter); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class GetPlayFabIDsFromGoogleIDsRequestAdapter extends TypeAdapter<GetPlayFabIDsFromGoogleIDsRequest> {
+        private final TypeAdapter<String> stringAdapter;
+
+        private GetPlayFabIDsFromGoogleIDsRequestAdapter(Gson gson) {
+            stringAdapter = gson.getAdapter(String.class);
+        }
+
+        @Override
+        public void write(JsonWriter out, GetPlayFabIDsFromGoogleIDsRequest value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            PlayFabJson.writeList(out.name("GoogleIDs"), value.GoogleIDs, stringAdapter);
+            out.endObject();
+        }
+
+        @Override
+        public GetPlayFabIDsFromGoogleIDsRequest read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            GetPlayFabIDsFromGoogleIDsRequest value = new GetPlayFabIDsFromGoogleIDsRequest();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "GoogleIDs": value.GoogleIDs = PlayFabJson.readList(in, stringAdapter); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class GetPlayFabIDsFromGoogleIDsResultAdapter extends TypeAdapter<GetPlayFabIDsFromGoogleIDsResult> {
+        private final TypeAdapter<GooglePlayFabIdPair> googlePlayFabIdPairAdapter;
+
+        private GetPlayFabIDsFromGoogleIDsResultAdapter(Gson gson) {
+            googlePlayFabIdPairAdapter = gson.getAdapter(GooglePlayFabIdPair.class);
+        }
+
+        @Override
+        public void write(JsonWriter out, GetPlayFabIDsFromGoogleIDsResult value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            PlayFabJson.writeList(out.name("Data"), value.Data, googlePlayFabIdPairAdapter);
+            out.endObject();
+        }
+
+        @Override
+        public GetPlayFabIDsFromGoogleIDsResult read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            GetPlayFabIDsFromGoogleIDsResult value = new GetPlayFabIDsFromGoogleIDsResult();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "Data": value.Data = PlayFabJson.readList(in, googlePlayFabIdPairAdapter); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class GetPlayFabIDsFromKongregateIDsRequestAdapter extends TypeAdapter<GetPlayFabIDsFromKongregateIDsRequest> {
+        private final TypeAdapter<String> stringAdapter;
+
+        private GetPlayFabIDsFromKongregateIDsRequestAdapter(Gson gson) {
+            stringAdapter = gson.getAdapter(String.class);
+        }
+
+        @Override
+        public void write(JsonWriter out, GetPlayFabIDsFromKongregateIDsRequest value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            PlayFabJson.writeList(out.name("KongregateIDs"), value.KongregateIDs, stringAdapter);
+            out.endObject();
+        }
+
+        @Override
+        public GetPlayFabIDsFromKongregateIDsRequest read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            GetPlayFabIDsFromKongregateIDsRequest value = new GetPlayFabIDsFromKongregateIDsRequest();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "KongregateIDs": value.KongregateIDs = PlayFabJson.readList(in, stringAdapter); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class GetPlayFabIDsFromKongregateIDsResultAdapter extends TypeAdapter<GetPlayFabIDsFromKongregateIDsResult> {
+        private final TypeAdapter<KongregatePlayFabIdPair> kongregatePlayFabIdPairAdapter;
+
+        private GetPlayFabIDsFromKongregateIDsResultAdapter(Gson gson) {
+            kongregatePlayFabIdPairAdapter = gson.getAdapter(KongregatePlayFabIdPair.class);
+        }
+
+        @Override
+        public void write(JsonWriter out, GetPlayFabIDsFromKongregateIDsResult value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            PlayFabJson.writeList(out.name("Data"), value.Data, kongregatePlayFabIdPairAdapter);
+            out.endObject();
+        }
+
+        @Override
+        public GetPlayFabIDsFromKongregateIDsResult read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            GetPlayFabIDsFromKongregateIDsResult value = new GetPlayFabIDsFromKongregateIDsResult();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "Data": value.Data = PlayFabJson.readList(in, kongregatePlayFabIdPairAdapter); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class GetPlayFabIDsFromNintendoSwitchDeviceIdsRequestAdapter extends TypeAdapter<GetPlayFabIDsFromNintendoSwitchDeviceIdsRequest> {
+        private final TypeAdapter<String> stringAdapter;
+
+        private GetPlayFabIDsFromNintendoSwitchDeviceIdsRequestAdapter(Gson gson) {
+            stringAdapter = gson.getAdapter(String.class);
+        }
+
+        @Override
+        public void write(JsonWriter out, GetPlayFabIDsFromNintendoSwitchDeviceIdsRequest value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            PlayFabJson.writeList(out.name("NintendoSwitchDeviceIds"), value.NintendoSwitchDeviceIds, stringAdapter);
+            out.endObject();
+        }
+
+        @Override
+        public GetPlayFabIDsFromNintendoSwitchDeviceIdsRequest read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            GetPlayFabIDsFromNintendoSwitchDeviceIdsRequest value = new GetPlayFabIDsFromNintendoSwitchDeviceIdsRequest();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "NintendoSwitchDeviceIds": value.NintendoSwitchDeviceIds = PlayFabJson.readList(in, stringAdapter); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class GetPlayFabIDsFromNintendoSwitchDeviceIdsResultAdapter extends TypeAdapter<GetPlayFabIDsFromNintendoSwitchDeviceIdsResult> {
+        private final TypeAdapter<NintendoSwitchPlayFabIdPair> nintendoSwitchPlayFabIdPairAdapter;
+
+        private GetPlayFabIDsFromNintendoSwitchDeviceIdsResultAdapter(Gson gson) {
+            nintendoSwitchPlayFabIdPairAdapter = gson.getAdapter(NintendoSwitchPlayFabIdPair.class);
+        }
+
+        @Override
+        public void write(JsonWriter out, GetPlayFabIDsFromNintendoSwitchDeviceIdsResult value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            PlayFabJson.writeList(out.name("Data"), value.Data, nintendoSwitchPlayFabIdPairAdapter);
+            out.endObject();
+        }
+
+        @Override
+        public GetPlayFabIDsFromNintendoSwitchDeviceIdsResult read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            GetPlayFabIDsFromNintendoSwitchDeviceIdsResult value = new GetPlayFabIDsFromNintendoSwitchDeviceIdsResult();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "Data": value.Data = PlayFabJson.readList(in, nintendoSwitchPlayFabIdPairAdapter); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class GetPlayFabIDsFromPSNAccountIDsRequestAdapter extends TypeAdapter<GetPlayFabIDsFromPSNAccountIDsRequest> {
+        private final TypeAdapter<String> stringAdapter;
+
+        private GetPlayFabIDsFromPSNAccountIDsRequestAdapter(Gson gson) {
+            stringAdapter = gson.getAdapter(String.class);
+        }
+
+        @Override
+        public void write(JsonWriter out, GetPlayFabIDsFromPSNAccountIDsRequest value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.name("IssuerId").value(value.IssuerId);
+            PlayFabJson.writeList(out.name("PSNAccountIDs"), value.PSNAccountIDs, stringAdapter);
+            out.endObject();
+        }
+
+        @Override
+        public GetPlayFabIDsFromPSNAccountIDsRequest read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            GetPlayFabIDsFromPSNAccountIDsRequest value = new GetPlayFabIDsFromPSNAccountIDsRequest();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "IssuerId": value.IssuerId = PlayFabJson.readInteger(in); break;
+                        case "PSNAccountIDs": value.PSNAccountIDs = PlayFabJson.readList(in, stringAdapter); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class GetPlayFabIDsFromPSNAccountIDsResultAdapter extends TypeAdapter<GetPlayFabIDsFromPSNAccountIDsResult> {
+        private final TypeAdapter<PSNAccountPlayFabIdPair> pSNAccountPlayFabIdPairAdapter;
+
+        private GetPlayFabIDsFromPSNAccountIDsResultAdapter(Gson gson) {
+            pSNAccountPlayFabIdPairAdapter = gson.getAdapter(PSNAccountPlayFabIdPair.class);
+        }
+
+        @Override
+        public void write(JsonWriter out, GetPlayFabIDsFromPSNAccountIDsResult value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            PlayFabJson.writeList(out.name("Data"), value.Data, pSNAccountPlayFabIdPairAdapter);
+            out.endObject();
+        }
+
+        @Override
+        public GetPlayFabIDsFromPSNAccountIDsResult read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            GetPlayFabIDsFromPSNAccountIDsResult value = new GetPlayFabIDsFromPSNAccountIDsResult();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "Data": value.Data = PlayFabJson.readList(in, pSNAccountPlayFabIdPairAdapter); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class GetPlayFabIDsFromSteamIDsRequestAdapter extends TypeAdapter<GetPlayFabIDsFromSteamIDsRequest> {
+        private final TypeAdapter<String> stringAdapter;
+
+        private GetPlayFabIDsFromSteamIDsRequestAdapter(Gson gson) {
+            stringAdapter = gson.getAdapter(String.class);
+        }
+
+        @Override
+        public void write(JsonWriter out, GetPlayFabIDsFromSteamIDsRequest value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            PlayFabJson.writeList(out.name("SteamStringIDs"), value.SteamStringIDs, stringAdapter);
+            out.endObject();
+        }
+
+        @Override
+        public GetPlayFabIDsFromSteamIDsRequest read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            GetPlayFabIDsFromSteamIDsRequest value = new GetPlayFabIDsFromSteamIDsRequest();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "SteamStringIDs": value.SteamStringIDs = PlayFabJson.readList(in, stringAdapter); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class GetPlayFabIDsFromSteamIDsResultAdapter extends TypeAdapter<GetPlayFabIDsFromSteamIDsResult> {
+        private final TypeAdapter<SteamPlayFabIdPair> steamPlayFabIdPairAdapter;
+
+        private GetPlayFabIDsFromSteamIDsResultAdapter(Gson gson) {
+            steamPlayFabIdPairAdapter = gson.getAdapter(SteamPlayFabIdPair.class);
+        }
+
+        @Override
+        public void write(JsonWriter out, GetPlayFabIDsFromSteamIDsResult value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            PlayFabJson.writeList(out.name("Data"), value.Data, steamPlayFabIdPairAdapter);
+            out.endObject();
+        }
+
+        @Override
+        public GetPlayFabIDsFromSteamIDsResult read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            GetPlayFabIDsFromSteamIDsResult value = new GetPlayFabIDsFromSteamIDsResult();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "Data": value.Data = PlayFabJson.readList(in, steamPlayFabIdPairAdapter); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class GetPlayFabIDsFromTwitchIDsRequestAdapter extends TypeAdapter<GetPlayFabIDsFromTwitchIDsRequest> {
+        private final TypeAdapter<String> stringAdapter;
+
+        private GetPlayFabIDsFromTwitchIDsRequestAdapter(Gson gson) {
+            stringAdapter = gson.getAdapter(String.class);
+        }
+
+        @Override
+        public void write(JsonWriter out, GetPlayFabIDsFromTwitchIDsRequest value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            PlayFabJson.writeList(out.name("TwitchIds"), value.TwitchIds, stringAdapter);
+            out.endObject();
+        }
+
+        @Override
+        public GetPlayFabIDsFromTwitchIDsRequest read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            GetPlayFabIDsFromTwitchIDsRequest value = new GetPlayFabIDsFromTwitchIDsRequest();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "TwitchIds": value.TwitchIds = PlayFabJson.readList(in, stringAdapter); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class GetPlayFabIDsFromTwitchIDsResultAdapter extends TypeAdapter<GetPlayFabIDsFromTwitchIDsResult> {
+        private final TypeAdapter<TwitchPlayFabIdPair> twitchPlayFabIdPairAdapter;
+
+        private GetPlayFabIDsFromTwitchIDsResultAdapter(Gson gson) {
+            twitchPlayFabIdPairAdapter = gson.getAdapter(TwitchPlayFabIdPair.class);
+        }
+
+        @Override
+        public void write(JsonWriter out, GetPlayFabIDsFromTwitchIDsResult value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            PlayFabJson.writeList(out.name("Data"), value.Data, twitchPlayFabIdPairAdapter);
+            out.endObject();
+        }
+
+        @Override
+        public GetPlayFabIDsFromTwitchIDsResult read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            GetPlayFabIDsFromTwitchIDsResult value = new GetPlayFabIDsFromTwitchIDsResult();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "Data": value.Data = PlayFabJson.readList(in, twitchPlayFabIdPairAdapter); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class GetPlayFabIDsFromXboxLiveIDsRequestAdapter extends TypeAdapter<GetPlayFabIDsFromXboxLiveIDsRequest> {
+        private final TypeAdapter<String> stringAdapter;
+
+        private GetPlayFabIDsFromXboxLiveIDsRequestAdapter(Gson gson) {
+            stringAdapter = gson.getAdapter(String.class);
+        }
+
+        @Override
+        public void write(JsonWriter out, GetPlayFabIDsFromXboxLiveIDsRequest value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.name("Sandbox").value(value.Sandbox);
+            PlayFabJson.writeList(out.name("XboxLiveAccountIDs"), value.XboxLiveAccountIDs, stringAdapter);
+            out.endObject();
+        }
+
+        @Override
+        public GetPlayFabIDsFromXboxLiveIDsRequest read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            GetPlayFabIDsFromXboxLiveIDsRequest value = new GetPlayFabIDsFromXboxLiveIDsRequest();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "Sandbox": value.Sandbox = PlayFabJson.readString(in); break;
+                        case "XboxLiveAccountIDs": value.XboxLiveAccountIDs = PlayFabJson.readList(in, stringAdapter); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class GetPlayFabIDsFromXboxLiveIDsResultAdapter extends TypeAdapter<GetPlayFabIDsFromXboxLiveIDsResult> {
+        private final TypeAdapter<XboxLiveAccountPlayFabIdPair> xboxLiveAccountPlayFabIdPairAdapter;
+
+        private GetPlayFabIDsFromXboxLiveIDsResultAdapter(Gson gson) {
+            xboxLiveAccountPlayFabIdPairAdapter = gson.getAdapter(XboxLiveAccountPlayFabIdPair.class);
+        }
+
+        @Override
+        public void write(JsonWriter out, GetPlayFabIDsFromXboxLiveIDsResult value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            PlayFabJson.writeList(out.name("Data"), value.Data, xboxLiveAccountPlayFabIdPairAdapter);
+            out.endObject();
+        }
+
+        @Override
+        public GetPlayFabIDsFromXboxLiveIDsResult read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            GetPlayFabIDsFromXboxLiveIDsResult value = new GetPlayFabIDsFromXboxLiveIDsResult();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "Data": value.Data = PlayFabJson.readList(in, xboxLiveAccountPlayFabIdPairAdapter); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class GetPublisherDataRequestAdapter extends TypeAdapter<GetPublisherDataRequest> {
+        private final TypeAdapter<String> stringAdapter;
+
+        private GetPublisherDataRequestAdapter(Gson gson) {
+            stringAdapter = gson.getAdapter(String.class);
+        }
+
+        @Override
+        public void write(JsonWriter out, GetPublisherDataRequest value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            PlayFabJson.writeList(out.name("Keys"), value.Keys, stringAdapter);
+            out.endObject();
+        }
+
+        @Override
+        public GetPublisherDataRequest read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            GetPublisherDataRequest value = new GetPublisherDataRequest();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "Keys": value.Keys = PlayFabJson.readList(in, stringAdapter); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class GetPublisherDataResultAdapter extends TypeAdapter<GetPublisherDataResult> {
+        private final TypeAdapter<String> stringAdapter;
+
+        private GetPublisherDataResultAdapter(Gson gson) {
+            stringAdapter = gson.getAdapter(String.class);
+        }
+
+        @Override
+        public void write(JsonWriter out, GetPublisherDataResult value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            PlayFabJson.writeMap(out.name("Data"), value.Data, stringAdapter);
+            out.endObject();
+        }
+
+        @Override
+        public GetPublisherDataResult read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            GetPublisherDataResult value = new GetPublisherDataResult();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "Data": value.Data = PlayFabJson.readMap(in, stringAdapter); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class GetPurchaseRequestAdapter extends TypeAdapter<GetPurchaseRequest> {
+        private GetPurchaseRequestAdapter(Gson gson) {
+        }
+
+        @Override
+        public void write(JsonWriter out, GetPurchaseRequest value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.name("OrderId").value(value.OrderId);
+            out.endObject();
+        }
+
+        @Override
+        public GetPurchaseRequest read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            GetPurchaseRequest value = new GetPurchaseRequest();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "OrderId": value.OrderId = PlayFabJson.readString(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class GetPurchaseResultAdapter extends TypeAdapter<GetPurchaseResult> {
+        private final TypeAdapter<Date> dateAdapter;
+
+        private GetPurchaseResultAdapter(Gson gson) {
+            dateAdapter = gson.getAdapter(Date.class);
+        }
+
+        @Override
+        public void write(JsonWriter out, GetPurchaseResult value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.name("OrderId").value(value.OrderId);
+            out.name("PaymentProvider").value(value.PaymentProvider);
+            dateAdapter.write(out.name("PurchaseDate"), value.PurchaseDate);
+            out.name("TransactionId").value(value.TransactionId);
+            out.name("TransactionStatus").value(value.TransactionStatus);
+            out.endObject();
+        }
+
+        @Override
+        public GetPurchaseResult read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            GetPurchaseResult value = new GetPurchaseResult();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "OrderId": value.OrderId = PlayFabJson.readString(in); break;
+                        case "PaymentProvider": value.PaymentProvider = PlayFabJson.readString(in); break;
+                        case "PurchaseDate": value.PurchaseDate = dateAdapter.read(in); break;
+                        case "TransactionId": value.TransactionId = PlayFabJson.readString(in); break;
+                        case "TransactionStatus": value.TransactionStatus = PlayFabJson.readString(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class GetSegmentResultAdapter extends TypeAdapter<GetSegmentResult> {
+        private GetSegmentResultAdapter(Gson gson) {
+        }
+
+        @Override
+        public void write(JsonWriter out, GetSegmentResult value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.name("ABTestParent").value(value.ABTestParent);
+            out.name("Id").value(value.Id);
+            out.name("Name").value(value.Name);
+            out.endObject();
+        }
+
+        @Override
+        public GetSegmentResult read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            GetSegmentResult value = new GetSegmentResult();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "ABTestParent": value.ABTestParent = PlayFabJson.readString(in); break;
+                        case "Id": value.Id = PlayFabJson.readString(in); break;
+                        case "Name": value.Name = PlayFabJson.readString(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class GetSharedGroupDataRequestAdapter extends TypeAdapter<GetSharedGroupDataRequest> {
+        private final TypeAdapter<String> stringAdapter;
+
+        private GetSharedGroupDataRequestAdapter(Gson gson) {
+            stringAdapter = gson.getAdapter(String.class);
+        }
+
+        @Override
+        public void write(JsonWriter out, GetSharedGroupDataRequest value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.name("GetMembers").value(value.GetMembers);
+            PlayFabJson.writeList(out.name("Keys"), value.Keys, stringAdapter);
+            out.name("SharedGroupId").value(value.SharedGroupId);
+            out.endObject();
+        }
+
+        @Override
+        public GetSharedGroupDataRequest read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            GetSharedGroupDataRequest value = new GetSharedGroupDataRequest();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "GetMembers": value.GetMembers = PlayFabJson.readBoolean(in); break;
+                        case "Keys": value.Keys = PlayFabJson.readList(in, stringAdapter); break;
+                        case "SharedGroupId": value.SharedGroupId = PlayFabJson.readString(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class GetSharedGroupDataResultAdapter extends TypeAdapter<GetSharedGroupDataResult> {
+        private final TypeAdapter<SharedGroupDataRecord> sharedGroupDataRecordAdapter;
+        private final TypeAdapter<String> stringAdapter;
+
+        private GetSharedGroupDataResultAdapter(Gson gson) {
+            sharedGroupDataRecordAdapter = gson.getAdapter(SharedGroupDataRecord.class);
+            stringAdapter = gson.getAdapter(String.class);
+        }
+
+        @Override
+        public void write(JsonWriter out, GetSharedGroupDataResult value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            PlayFabJson.writeMap(out.name("Data"), value.Data, sharedGroupDataRecordAdapter);
+            PlayFabJson.writeList(out.name("Members"), value.Members, stringAdapter);
+            out.endObject();
+        }
+
+        @Override
+        public GetSharedGroupDataResult read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            GetSharedGroupDataResult value = new GetSharedGroupDataResult();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "Data": value.Data = PlayFabJson.readMap(in, sharedGroupDataRecordAdapter); break;
+                        case "Members": value.Members = PlayFabJson.readList(in, stringAdapter); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class GetStoreItemsRequestAdapter extends TypeAdapter<GetStoreItemsRequest> {
+        private GetStoreItemsRequestAdapter(Gson gson) {
+        }
+
+        @Override
+        public void write(JsonWriter out, GetStoreItemsRequest value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.name("CatalogVersion").value(value.CatalogVersion);
+            out.name("StoreId").value(value.StoreId);
+            out.endObject();
+        }
+
+        @Override
+        public GetStoreItemsRequest read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            GetStoreItemsRequest value = new GetStoreItemsRequest();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "CatalogVersion": value.CatalogVersion = PlayFabJson.readString(in); break;
+                        case "StoreId": value.StoreId = PlayFabJson.readString(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class GetStoreItemsResultAdapter extends TypeAdapter<GetStoreItemsResult> {
+        private final TypeAdapter<StoreMarketingModel> storeMarketingModelAdapter;
+        private final TypeAdapter<SourceType> sourceTypeAdapter;
+        private final TypeAdapter<StoreItem> storeItemAdapter;
+
+        private GetStoreItemsResultAdapter(Gson gson) {
+            storeMarketingModelAdapter = gson.getAdapter(StoreMarketingModel.class);
+            sourceTypeAdapter = gson.getAdapter(SourceType.class);
+            storeItemAdapter = gson.getAdapter(StoreItem.class);
+        }
+
+        @Override
+        public void write(JsonWriter out, GetStoreItemsResult value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.name("CatalogVersion").value(value.CatalogVersion);
+            storeMarketingModelAdapter.write(out.name("MarketingData"), value.MarketingData);
+            sourceTypeAdapter.write(out.name("Source"), value.Source);
+            PlayFabJson.writeList(out.name("Store"), value.Store, storeItemAdapter);
+            out.name("StoreId").value(value.StoreId);
+            out.endObject();
+        }
+
+        @Override
+        public GetStoreItemsResult read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            GetStoreItemsResult value = new GetStoreItemsResult();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "CatalogVersion": value.CatalogVersion = PlayFabJson.readString(in); break;
+                        case "MarketingData": value.MarketingData = storeMarketingModelAdapter.read(in); break;
+                        case "Source": value.Source = sourceTypeAdapter.read(in); break;
+                        case "Store": value.Store = PlayFabJson.readList(in, storeItemAdapter); break;
+                        case "StoreId": value.StoreId = PlayFabJson.readString(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class GetTimeRequestAdapter extends TypeAdapter<GetTimeRequest> {
+        private GetTimeRequestAdapter(Gson gson) {
+        }
+
+        @Override
+        public void write(JsonWriter out, GetTimeRequest value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.endObject();
+        }
+
+        @Override
+        public GetTimeRequest read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            GetTimeRequest value = new GetTimeRequest();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class GetTimeResultAdapter extends TypeAdapter<GetTimeResult> {
+        private final TypeAdapter<Date> dateAdapter;
+
+        private GetTimeResultAdapter(Gson gson) {
+            dateAdapter = gson.getAdapter(Date.class);
+        }
+
+        @Override
+        public void write(JsonWriter out, GetTimeResult value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            dateAdapter.write(out.name("Time"), value.Time);
+            out.endObject();
+        }
+
+        @Override
+        public GetTimeResult read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            GetTimeResult value = new GetTimeResult();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "Time": value.Time = dateAdapter.read(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class GetTitleDataRequestAdapter extends TypeAdapter<GetTitleDataRequest> {
+        private final TypeAdapter<String> stringAdapter;
+
+        private GetTitleDataRequestAdapter(Gson gson) {
+            stringAdapter = gson.getAdapter(String.class);
+        }
+
+        @Override
+        public void write(JsonWriter out, GetTitleDataRequest value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            PlayFabJson.writeList(out.name("Keys"), value.Keys, stringAdapter);
+            out.name("OverrideLabel").value(value.OverrideLabel);
+            out.endObject();
+        }
+
+        @Override
+        public GetTitleDataRequest read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            GetTitleDataRequest value = new GetTitleDataRequest();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "Keys": value.Keys = PlayFabJson.readList(in, stringAdapter); break;
+                        case "OverrideLabel": value.OverrideLabel = PlayFabJson.readString(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class GetTitleDataResultAdapter extends TypeAdapter<GetTitleDataResult> {
+        private final TypeAdapter<String> stringAdapter;
+
+        private GetTitleDataResultAdapter(Gson gson) {
+            stringAdapter = gson.getAdapter(String.class);
+        }
+
+        @Override
+        public void write(JsonWriter out, GetTitleDataResult value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            PlayFabJson.writeMap(out.name("Data"), value.Data, stringAdapter);
+            out.endObject();
+        }
+
+        @Override
+        public GetTitleDataResult read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            GetTitleDataResult value = new GetTitleDataResult();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "Data": value.Data = PlayFabJson.readMap(in, stringAdapter); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class GetTitleNewsRequestAdapter extends TypeAdapter<GetTitleNewsRequest> {
+        private GetTitleNewsRequestAdapter(Gson gson) {
+        }
+
+        @Override
+        public void write(JsonWriter out, GetTitleNewsRequest value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.name("Count").value(value.Count);
+            out.endObject();
+        }
+
+        @Override
+        public GetTitleNewsRequest read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            GetTitleNewsRequest value = new GetTitleNewsRequest();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "Count": value.Count = PlayFabJson.readInteger(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class GetTitleNewsResultAdapter extends TypeAdapter<GetTitleNewsResult> {
+        private final TypeAdapter<TitleNewsItem> titleNewsItemAdapter;
+
+        private GetTitleNewsResultAdapter(Gson gson) {
+            titleNewsItemAdapter = gson.getAdapter(TitleNewsItem.class);
+        }
+
+        @Override
+        public void write(JsonWriter out, GetTitleNewsResult value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            PlayFabJson.writeList(out.name("News"), value.News, titleNewsItemAdapter);
+            out.endObject();
+        }
+
+        @Override
+        public GetTitleNewsResult read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            GetTitleNewsResult value = new GetTitleNewsResult();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "News": value.News = PlayFabJson.readList(in, titleNewsItemAdapter); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class GetTitlePublicKeyRequestAdapter extends TypeAdapter<GetTitlePublicKeyRequest> {
+        private GetTitlePublicKeyRequestAdapter(Gson gson) {
+        }
+
+        @Override
+        public void write(JsonWriter out, GetTitlePublicKeyRequest value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.name("TitleId").value(value.TitleId);
+            out.name("TitleSharedSecret").value(value.TitleSharedSecret);
+            out.endObject();
+        }
+
+        @Override
+        public GetTitlePublicKeyRequest read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            GetTitlePublicKeyRequest value = new GetTitlePublicKeyRequest();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "TitleId": value.TitleId = PlayFabJson.readString(in); break;
+                        case "TitleSharedSecret": value.TitleSharedSecret = PlayFabJson.readString(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class GetTitlePublicKeyResultAdapter extends TypeAdapter<GetTitlePublicKeyResult> {
+        private GetTitlePublicKeyResultAdapter(Gson gson) {
+        }
+
+        @Override
+        public void write(JsonWriter out, GetTitlePublicKeyResult value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.name("RSAPublicKey").value(value.RSAPublicKey);
+            out.endObject();
+        }
+
+        @Override
+        public GetTitlePublicKeyResult read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            GetTitlePublicKeyResult value = new GetTitlePublicKeyResult();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "RSAPublicKey": value.RSAPublicKey = PlayFabJson.readString(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class GetTradeStatusRequestAdapter extends TypeAdapter<GetTradeStatusRequest> {
+        private GetTradeStatusRequestAdapter(Gson gson) {
+        }
+
+        @Override
+        public void write(JsonWriter out, GetTradeStatusRequest value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.name("OfferingPlayerId").value(value.OfferingPlayerId);
+            out.name("TradeId").value(value.TradeId);
+            out.endObject();
+        }
+
+        @Override
+        public GetTradeStatusRequest read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            GetTradeStatusRequest value = new GetTradeStatusRequest();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "OfferingPlayerId": value.OfferingPlayerId = PlayFabJson.readString(in); break;
+                        case "TradeId": value.TradeId = PlayFabJson.readString(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class GetTradeStatusResponseAdapter extends TypeAdapter<GetTradeStatusResponse> {
+        private final TypeAdapter<TradeInfo> tradeInfoAdapter;
+
+        private GetTradeStatusResponseAdapter(Gson gson) {
+            tradeInfoAdapter = gson.getAdapter(TradeInfo.class);
+        }
+
+        @Override
+        public void write(JsonWriter out, GetTradeStatusResponse value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            tradeInfoAdapter.write(out.name("Trade"), value.Trade);
+            out.endObject();
+        }
+
+        @Override
+        public GetTradeStatusResponse read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            GetTradeStatusResponse value = new GetTradeStatusResponse();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "Trade": value.Trade = tradeInfoAdapter.read(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class GetUserDataRequestAdapter extends TypeAdapter<GetUserDataRequest> {
+        private final TypeAdapter<String> stringAdapter;
+
+        private GetUserDataRequestAdapter(Gson gson) {
+            stringAdapter = gson.getAdapter(String.class);
+        }
+
+        @Override
+        public void write(JsonWriter out, GetUserDataRequest value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.name("IfChangedFromDataVersion").value(value.IfChangedFromDataVersion);
+            PlayFabJson.writeList(out.name("Keys"), value.Keys, stringAdapter);
+            out.name("PlayFabId").value(value.PlayFabId);
+            out.endObject();
+        }
+
+        @Override
+        public GetUserDataRequest read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            GetUserDataRequest value = new GetUserDataRequest();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "IfChangedFromDataVersion": value.IfChangedFromDataVersion = PlayFabJson.readLong(in); break;
+                        case "Keys": value.Keys = PlayFabJson.readList(in, stringAdapter); break;
+                        case "PlayFabId": value.PlayFabId = PlayFabJson.readString(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class GetUserDataResultAdapter extends TypeAdapter<GetUserDataResult> {
+        private final TypeAdapter<UserDataRecord> userDataRecordAdapter;
+
+        private GetUserDataResultAdapter(Gson gson) {
+            userDataRecordAdapter = gson.getAdapter(UserDataRecord.class);
+        }
+
+        @Override
+        public void write(JsonWriter out, GetUserDataResult value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            PlayFabJson.writeMap(out.name("Data"), value.Data, userDataRecordAdapter);
+            out.name("DataVersion").value(value.DataVersion);
+            out.endObject();
+        }
+
+        @Override
+        public GetUserDataResult read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            GetUserDataResult value = new GetUserDataResult();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "Data": value.Data = PlayFabJson.readMap(in, userDataRecordAdapter); break;
+                        case "DataVersion": value.DataVersion = PlayFabJson.readLong(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class GetUserInventoryRequestAdapter extends TypeAdapter<GetUserInventoryRequest> {
+        private final TypeAdapter<String> stringAdapter;
+
+        private GetUserInventoryRequestAdapter(Gson gson) {
+            stringAdapter = gson.getAdapter(String.class);
+        }
+
+        @Override
+        public void write(JsonWriter out, GetUserInventoryRequest value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            PlayFabJson.writeMap(out.name("CustomTags"), value.CustomTags, stringAdapter);
+            out.endObject();
+        }
+
+        @Override
+        public GetUserInventoryRequest read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            GetUserInventoryRequest value = new GetUserInventoryRequest();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "CustomTags": value.CustomTags = PlayFabJson.readMap(in, stringAdapter); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class GetUserInventoryResultAdapter extends TypeAdapter<GetUserInventoryResult> {
+        private final TypeAdapter<ItemInstance> itemInstanceAdapter;
+        private final TypeAdapter<Integer> integerAdapter;
+        private final TypeAdapter<VirtualCurrencyRechargeTime> virtualCurrencyRechargeTimeAdapter;
+
+        private GetUserInventoryResultAdapter(Gson gson) {
+            itemInstanceAdapter = gson.getAdapter(ItemInstance.class);
+            integerAdapter = gson.getAdapter(Integer.class);
+            virtualCurrencyRechargeTimeAdapter = gson.getAdapter(VirtualCurrencyRechargeTime.class);
+        }
+
+        @Override
+        public void write(JsonWriter out, GetUserInventoryResult value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            PlayFabJson.writeList(out.name("Inventory"), value.Inventory, itemInstanceAdapter);
+            PlayFabJson.writeMap(out.name("VirtualCurrency"), value.VirtualCurrency, integerAdapter);
+            PlayFabJson.writeMap(out.name("VirtualCurrencyRechargeTimes"), value.VirtualCurrencyRechargeTimes, virtualCurrencyRechargeTimeAdapter);
+            out.endObject();
+        }
+
+        @Override
+        public GetUserInventoryResult read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            GetUserInventoryResult value = new GetUserInventoryResult();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "Inventory": value.Inventory = PlayFabJson.readList(in, itemInstanceAdapter); break;
+                        case "VirtualCurrency": value.VirtualCurrency = PlayFabJson.readMap(in, integerAdapter); break;
+                        case "VirtualCurrencyRechargeTimes": value.VirtualCurrencyRechargeTimes = PlayFabJson.readMap(in, virtualCurrencyRechargeTimeAdapter); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class GooglePlayFabIdPairAdapter extends TypeAdapter<GooglePlayFabIdPair> {
+        private GooglePlayFabIdPairAdapter(Gson gson) {
+        }
+
+        @Override
+        public void write(JsonWriter out, GooglePlayFabIdPair value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.name("GoogleId").value(value.GoogleId);
+            out.name("PlayFabId").value(value.PlayFabId);
+            out.endObject();
+        }
+
+        @Override
+        public GooglePlayFabIdPair read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            GooglePlayFabIdPair value = new GooglePlayFabIdPair();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "GoogleId": value.GoogleId = PlayFabJson.readString(in); break;
+                        case "PlayFabId": value.PlayFabId = PlayFabJson.readString(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class GrantCharacterToUserRequestAdapter extends TypeAdapter<GrantCharacterToUserRequest> {
+        private final TypeAdapter<String> stringAdapter;
+
+        private GrantCharacterToUserRequestAdapter(Gson gson) {
+            stringAdapter = gson.getAdapter(String.class);
+        }
+
+        @Override
+        public void write(JsonWriter out, GrantCharacterToUserRequest value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.name("CatalogVersion").value(value.CatalogVersion);
+            out.name("CharacterName").value(value.CharacterName);
+            PlayFabJson.writeMap(out.name("CustomTags"), value.CustomTags, stringAdapter);
+            out.name("ItemId").value(value.ItemId);
+            out.endObject();
+        }
+
+        @Override
+        public GrantCharacterToUserRequest read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            GrantCharacterToUserRequest value = new GrantCharacterToUserRequest();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "CatalogVersion": value.CatalogVersion = PlayFabJson.readString(in); break;
+                        case "CharacterName": value.CharacterName = PlayFabJson.readString(in); break;
+                        case "CustomTags": value.CustomTags = PlayFabJson.readMap(in, stringAdapter); break;
+                        case "ItemId": value.ItemId = PlayFabJson.readString(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class GrantCharacterToUserResultAdapter extends TypeAdapter<GrantCharacterToUserResult> {
+        private GrantCharacterToUserResultAdapter(Gson gson) {
+        }
+
+        @Override
+        public void write(JsonWriter out, GrantCharacterToUserResult value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.name("CharacterId").value(value.CharacterId);
+            out.name("CharacterType").value(value.CharacterType);
+            out.name("Result").value(value.Result);
+            out.endObject();
+        }
+
+        @Override
+        public GrantCharacterToUserResult read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            GrantCharacterToUserResult value = new GrantCharacterToUserResult();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "CharacterId": value.CharacterId = PlayFabJson.readString(in); break;
+                        case "CharacterType": value.CharacterType = PlayFabJson.readString(in); break;
+                        case "Result": value.Result = PlayFabJson.readBoolean(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class ItemInstanceAdapter extends TypeAdapter<ItemInstance> {
+        private final TypeAdapter<String> stringAdapter;
+        private final TypeAdapter<Date> dateAdapter;
+
+        private ItemInstanceAdapter(Gson gson) {
+            stringAdapter = gson.getAdapter(String.class);
+            dateAdapter = gson.getAdapter(Date.class);
+        }
+
+        @Override
+        public void write(JsonWriter out, ItemInstance value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.name("Annotation").value(value.Annotation);
+            PlayFabJson.writeList(out.name("BundleContents"), value.BundleContents, stringAdapter);
+            out.name("BundleParent").value(value.BundleParent);
+            out.name("CatalogVersion").value(value.CatalogVersion);
+            PlayFabJson.writeMap(out.name("CustomData"), value.CustomData, stringAdapter);
+            out.name("DisplayName").value(value.DisplayName);
+            dateAdapter.write(out.name("Expiration"), value.Expiration);
+            out.name("ItemClass").value(value.ItemClass);
+            out.name("ItemId").value(value.ItemId);
+            out.name("ItemInstanceId").value(value.ItemInstanceId);
+            dateAdapter.write(out.name("PurchaseDate"), value.PurchaseDate);
+            out.name("RemainingUses").value(value.RemainingUses);
+            out.name("UnitCurrency").value(value.UnitCurrency);
+            out.name("UnitPrice").value(value.UnitPrice);
+            out.name("UsesIncrementedBy").value(value.UsesIncrementedBy);
+            out.endObject();
+        }
+
+        @Override
+        public ItemInstance read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            ItemInstance value = new ItemInstance();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "Annotation": value.Annotation = PlayFabJson.readString(in); break;
+                        case "BundleContents": value.BundleContents = PlayFabJson.readList(in, stringAdapter); break;
+                        case "BundleParent": value.BundleParent = PlayFabJson.readString(in); break;
+                        case "CatalogVersion": value.CatalogVersion = PlayFabJson.readString(in); break;
+                        case "CustomData": value.CustomData = PlayFabJson.readMap(in, stringAdapter); break;
+                        case "DisplayName": value.DisplayName = PlayFabJson.readString(in); break;
+                        case "Expiration": value.Expiration = dateAdapter.read(in); break;
+                        case "ItemClass": value.ItemClass = PlayFabJson.readString(in); break;
+                        case "ItemId": value.ItemId = PlayFabJson.readString(in); break;
+                        case "ItemInstanceId": value.ItemInstanceId = PlayFabJson.readString(in); break;
+                        case "PurchaseDate": value.PurchaseDate = dateAdapter.read(in); break;
+                        case "RemainingUses": value.RemainingUses = PlayFabJson.readInteger(in); break;
+                        case "UnitCurrency": value.UnitCurrency = PlayFabJson.readString(in); break;
+                        case "UnitPrice": value.UnitPrice = PlayFabJson.readLong(in); break;
+                        case "UsesIncrementedBy": value.UsesIncrementedBy = PlayFabJson.readInteger(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class ItemPurchaseRequestAdapter extends TypeAdapter<ItemPurchaseRequest> {
+        private final TypeAdapter<String> stringAdapter;
+
+        private ItemPurchaseRequestAdapter(Gson gson) {
+            stringAdapter = gson.getAdapter(String.class);
+        }
+
+        @Override
+        public void write(JsonWriter out, ItemPurchaseRequest value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.name("Annotation").value(value.Annotation);
+            out.name("ItemId").value(value.ItemId);
+            out.name("Quantity").value(value.Quantity);
+            PlayFabJson.writeList(out.name("UpgradeFromItems"), value.UpgradeFromItems, stringAdapter);
+            out.endObject();
+        }
+
+        @Override
+        public ItemPurchaseRequest read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            ItemPurchaseRequest value = new ItemPurchaseRequest();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "Annotation": value.Annotation = PlayFabJson.readString(in); break;
+                        case "ItemId": value.ItemId = PlayFabJson.readString(in); break;
+                        case "Quantity": value.Quantity = PlayFabJson.readLong(in); break;
+                        case "UpgradeFromItems": value.UpgradeFromItems = PlayFabJson.readList(in, stringAdapter); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class KongregatePlayFabIdPairAdapter extends TypeAdapter<KongregatePlayFabIdPair> {
+        private KongregatePlayFabIdPairAdapter(Gson gson) {
+        }
+
+        @Override
+        public void write(JsonWriter out, KongregatePlayFabIdPair value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.name("KongregateId").value(value.KongregateId);
+            out.name("PlayFabId").value(value.PlayFabId);
+            out.endObject();
+        }
+
+        @Override
+        public KongregatePlayFabIdPair read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            KongregatePlayFabIdPair value = new KongregatePlayFabIdPair();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "KongregateId": value.KongregateId = PlayFabJson.readString(in); break;
+                        case "PlayFabId": value.PlayFabId = PlayFabJson.readString(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class LinkAndroidDeviceIDRequestAdapter extends TypeAdapter<LinkAndroidDeviceIDRequest> {
+        private final TypeAdapter<String> stringAdapter;
+
+        private LinkAndroidDeviceIDRequestAdapter(Gson gson) {
+            stringAdapter = gson.getAdapter(String.class);
+        }
+
+        @Override
+        public void write(JsonWriter out, LinkAndroidDeviceIDRequest value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.name("AndroidDevice").value(value.AndroidDevice);
+            out.name("AndroidDeviceId").value(value.AndroidDeviceId);
+            PlayFabJson.writeMap(out.name("CustomTags"), value.CustomTags, stringAdapter);
+            out.name("ForceLink").value(value.ForceLink);
+            out.name("OS").value(value.OS);
+            out.endObject();
+        }
+
+        @Override
+        public LinkAndroidDeviceIDRequest read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            LinkAndroidDeviceIDRequest value = new LinkAndroidDeviceIDRequest();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "AndroidDevice": value.AndroidDevice = PlayFabJson.readString(in); break;
+                        case "AndroidDeviceId": value.AndroidDeviceId = PlayFabJson.readString(in); break;
+                        case "CustomTags": value.CustomTags = PlayFabJson.readMap(in, stringAdapter); break;
+                        case "ForceLink": value.ForceLink = PlayFabJson.readBoolean(in); break;
+                        case "OS": value.OS = PlayFabJson.readString(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class LinkAndroidDeviceIDResultAdapter extends TypeAdapter<LinkAndroidDeviceIDResult> {
+        private LinkAndroidDeviceIDResultAdapter(Gson gson) {
+        }
+
+        @Override
+        public void write(JsonWriter out, LinkAndroidDeviceIDResult value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.endObject();
+        }
+
+        @Override
+        public LinkAndroidDeviceIDResult read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            LinkAndroidDeviceIDResult value = new LinkAndroidDeviceIDResult();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class LinkAppleRequestAdapter extends TypeAdapter<LinkAppleRequest> {
+        private final TypeAdapter<String> stringAdapter;
+
+        private LinkAppleRequestAdapter(Gson gson) {
+            stringAdapter = gson.getAdapter(String.class);
+        }
+
+        @Override
+        public void write(JsonWriter out, LinkAppleRequest value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            PlayFabJson.writeMap(out.name("CustomTags"), value.CustomTags, stringAdapter);
+            out.name("ForceLink").value(value.ForceLink);
+            out.name("IdentityToken").value(value.IdentityToken);
+            out.endObject();
+        }
+
+        @Override
+        public LinkAppleRequest read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            LinkAppleRequest value = new LinkAppleRequest();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "CustomTags": value.CustomTags = PlayFabJson.readMap(in, stringAdapter); break;
+                        case "ForceLink": value.ForceLink = PlayFabJson.readBoolean(in); break;
+                        case "IdentityToken": value.IdentityToken = PlayFabJson.readString(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class LinkCustomIDRequestAdapter extends TypeAdapter<LinkCustomIDRequest> {
+        private final TypeAdapter<String> stringAdapter;
+
+        private LinkCustomIDRequestAdapter(Gson gson) {
+            stringAdapter = gson.getAdapter(String.class);
+        }
+
+        @Override
+        public void write(JsonWriter out, LinkCustomIDRequest value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.name("CustomId").value(value.CustomId);
+            PlayFabJson.writeMap(out.name("CustomTags"), value.CustomTags, stringAdapter);
+            out.name("ForceLink").value(value.ForceLink);
+            out.endObject();
+        }
+
+        @Override
+        public LinkCustomIDRequest read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            LinkCustomIDRequest value = new LinkCustomIDRequest();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "CustomId": value.CustomId = PlayFabJson.readString(in); break;
+                        case "CustomTags": value.CustomTags = PlayFabJson.readMap(in, stringAdapter); break;
+                        case "ForceLink": value.ForceLink = PlayFabJson.readBoolean(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class LinkCustomIDResultAdapter extends TypeAdapter<LinkCustomIDResult> {
+        private LinkCustomIDResultAdapter(Gson gson) {
+        }
+
+        @Override
+        public void write(JsonWriter out, LinkCustomIDResult value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.endObject();
+        }
+
+        @Override
+        public LinkCustomIDResult read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            LinkCustomIDResult value = new LinkCustomIDResult();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class LinkedPlatformAccountModelAdapter extends TypeAdapter<LinkedPlatformAccountModel> {
+        private final TypeAdapter<LoginIdentityProvider> loginIdentityProviderAdapter;
+
+        private LinkedPlatformAccountModelAdapter(Gson gson) {
+            loginIdentityProviderAdapter = gson.getAdapter(LoginIdentityProvider.class);
+        }
+
+        @Override
+        public void write(JsonWriter out, LinkedPlatformAccountModel value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.name("Email").value(value.Email);
+            loginIdentityProviderAdapter.write(out.name("Platform"), value.Platform);
+            out.name("PlatformUserId").value(value.PlatformUserId);
+            out.name("Username").value(value.Username);
+            out.endObject();
+        }
+
+        @Override
+        public LinkedPlatformAccountModel read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            LinkedPlatformAccountModel value = new LinkedPlatformAccountModel();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "Email": value.Email = PlayFabJson.readString(in); break;
+                        case "Platform": value.Platform = loginIdentityProviderAdapter.read(in); break;
+                        case "PlatformUserId": value.PlatformUserId = PlayFabJson.readString(in); break;
+                        case "Username": value.Username = PlayFabJson.readString(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class LinkFacebookAccountRequestAdapter extends TypeAdapter<LinkFacebookAccountRequest> {
+        private final TypeAdapter<String> stringAdapter;
+
+        private LinkFacebookAccountRequestAdapter(Gson gson) {
+            stringAdapter = gson.getAdapter(String.class);
+        }
+
+        @Override
+        public void write(JsonWriter out, LinkFacebookAccountRequest value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.name("AccessToken").value(value.AccessToken);
+            PlayFabJson.writeMap(out.name("CustomTags"), value.CustomTags, stringAdapter);
+            out.name("ForceLink").value(value.ForceLink);
+            out.endObject();
+        }
+
+        @Override
+        public LinkFacebookAccountRequest read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            LinkFacebookAccountRequest value = new LinkFacebookAccountRequest();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "AccessToken": value.AccessToken = PlayFabJson.readString(in); break;
+                        case "CustomTags": value.CustomTags = PlayFabJson.readMap(in, stringAdapter); break;
+                        case "ForceLink": value.ForceLink = PlayFabJson.readBoolean(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class LinkFacebookAccountResultAdapter extends TypeAdapter<LinkFacebookAccountResult> {
+        private LinkFacebookAccountResultAdapter(Gson gson) {
+        }
+
+        @Override
+        public void write(JsonWriter out, LinkFacebookAccountResult value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.endObject();
+        }
+
+        @Override
+        public LinkFacebookAccountResult read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            LinkFacebookAccountResult value = new LinkFacebookAccountResult();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class LinkFacebookInstantGamesIdRequestAdapter extends TypeAdapter<LinkFacebookInstantGamesIdRequest> {
+        private final TypeAdapter<String> stringAdapter;
+
+        private LinkFacebookInstantGamesIdRequestAdapter(Gson gson) {
+            stringAdapter = gson.getAdapter(String.class);
+        }
+
+        @Override
+        public void write(JsonWriter out, LinkFacebookInstantGamesIdRequest value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            PlayFabJson.writeMap(out.name("CustomTags"), value.CustomTags, stringAdapter);
+            out.name("FacebookInstantGamesSignature").value(value.FacebookInstantGamesSignature);
+            out.name("ForceLink").value(value.ForceLink);
+            out.endObject();
+        }
+
+        @Override
+        public LinkFacebookInstantGamesIdRequest read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            LinkFacebookInstantGamesIdRequest value = new LinkFacebookInstantGamesIdRequest();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "CustomTags": value.CustomTags = PlayFabJson.readMap(in, stringAdapter); break;
+                        case "FacebookInstantGamesSignature": value.FacebookInstantGamesSignature = PlayFabJson.readString(in); break;
+                        case "ForceLink": value.ForceLink = PlayFabJson.readBoolean(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class LinkFacebookInstantGamesIdResultAdapter extends TypeAdapter<LinkFacebookInstantGamesIdResult> {
+        private LinkFacebookInstantGamesIdResultAdapter(Gson gson) {
+        }
+
+        @Override
+        public void write(JsonWriter out, LinkFacebookInstantGamesIdResult value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.endObject();
+        }
+
+        @Override
+        public LinkFacebookInstantGamesIdResult read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            LinkFacebookInstantGamesIdResult value = new LinkFacebookInstantGamesIdResult();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class LinkGameCenterAccountRequestAdapter extends TypeAdapter<LinkGameCenterAccountRequest> {
+        private final TypeAdapter<String> stringAdapter;
+
+        private LinkGameCenterAccountRequestAdapter(Gson gson) {
+            stringAdapter = gson.getAdapter(String.class);
+        }
+
+        @Override
+        public void write(JsonWriter out, LinkGameCenterAccountRequest value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            PlayFabJson.writeMap(out.name("CustomTags"), value.CustomTags, stringAdapter);
+            out.name("ForceLink").value(value.ForceLink);
+            out.name("GameCenterId").value(value.GameCenterId);
+            out.name("PublicKeyUrl").value(value.PublicKeyUrl);
+            out.name("Salt").value(value.Salt);
+            out.name("Signature").value(value.Signature);
+            out.name("Timestamp").value(value.Timestamp);
+            out.endObject();
+        }
+
+        @Override
+        public LinkGameCenterAccountRequest read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            LinkGameCenterAccountRequest value = new LinkGameCenterAccountRequest();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "CustomTags": value.CustomTags = PlayFabJson.readMap(in, stringAdapter); break;
+                        case "ForceLink": value.ForceLink = PlayFabJson.readBoolean(in); break;
+                        case "GameCenterId": value.GameCenterId = PlayFabJson.readString(in); break;
+                        case "PublicKeyUrl": value.PublicKeyUrl = PlayFabJson.readString(in); break;
+                        case "Salt": value.Salt = PlayFabJson.readString(in); break;
+                        case "Signature": value.Signature = PlayFabJson.readString(in); break;
+                        case "Timestamp": value.Timestamp = PlayFabJson.readString(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class LinkGameCenterAccountResultAdapter extends TypeAdapter<LinkGameCenterAccountResult> {
+        private LinkGameCenterAccountResultAdapter(Gson gson) {
+        }
+
+        @Override
+        public void write(JsonWriter out, LinkGameCenterAccountResult value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.endObject();
+        }
+
+        @Override
+        public LinkGameCenterAccountResult read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            LinkGameCenterAccountResult value = new LinkGameCenterAccountResult();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class LinkGoogleAccountRequestAdapter extends TypeAdapter<LinkGoogleAccountRequest> {
+        private final TypeAdapter<String> stringAdapter;
+
+        private LinkGoogleAccountRequestAdapter(Gson gson) {
+            stringAdapter = gson.getAdapter(String.class);
+        }
+
+        @Override
+        public void write(JsonWriter out, LinkGoogleAccountRequest value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            PlayFabJson.writeMap(out.name("CustomTags"), value.CustomTags, stringAdapter);
+            out.name("ForceLink").value(value.ForceLink);
+            out.name("ServerAuthCode").value(value.ServerAuthCode);
+            out.endObject();
+        }
+
+        @Override
+        public LinkGoogleAccountRequest read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            LinkGoogleAccountRequest value = new LinkGoogleAccountRequest();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "CustomTags": value.CustomTags = PlayFabJson.readMap(in, stringAdapter); break;
+                        case "ForceLink": value.ForceLink = PlayFabJson.readBoolean(in); break;
+                        case "ServerAuthCode": value.ServerAuthCode = PlayFabJson.readString(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class LinkGoogleAccountResultAdapter extends TypeAdapter<LinkGoogleAccountResult> {
+        private LinkGoogleAccountResultAdapter(Gson gson) {
+        }
+
+        @Override
+        public void write(JsonWriter out, LinkGoogleAccountResult value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.endObject();
+        }
+
+        @Override
+        public LinkGoogleAccountResult read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            LinkGoogleAccountResult value = new LinkGoogleAccountResult();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class LinkIOSDeviceIDRequestAdapter extends TypeAdapter<LinkIOSDeviceIDRequest> {
+        private final TypeAdapter<String> stringAdapter;
+
+        private LinkIOSDeviceIDRequestAdapter(Gson gson) {
+            stringAdapter = gson.getAdapter(String.class);
+        }
+
+        @Override
+        public void write(JsonWriter out, LinkIOSDeviceIDRequest value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            PlayFabJson.writeMap(out.name("CustomTags"), value.CustomTags, stringAdapter);
+            out.name("DeviceId").value(value.DeviceId);
+            out.name("DeviceModel").value(value.DeviceModel);
+            out.name("ForceLink").value(value.ForceLink);
+            out.name("OS").value(value.OS);
+            out.endObject();
+        }
+
+        @Override
+        public LinkIOSDeviceIDRequest read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            LinkIOSDeviceIDRequest value = new LinkIOSDeviceIDRequest();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "CustomTags": value.CustomTags = PlayFabJson.readMap(in, stringAdapter); break;
+                        case "DeviceId": value.DeviceId = PlayFabJson.readString(in); break;
+                        case "DeviceModel": value.DeviceModel = PlayFabJson.readString(in); break;
+                        case "ForceLink": value.ForceLink = PlayFabJson.readBoolean(in); break;
+                        case "OS": value.OS = PlayFabJson.readString(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class LinkIOSDeviceIDResultAdapter extends TypeAdapter<LinkIOSDeviceIDResult> {
+        private LinkIOSDeviceIDResultAdapter(Gson gson) {
+        }
+
+        @Override
+        public void write(JsonWriter out, LinkIOSDeviceIDResult value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.endObject();
+        }
+
+        @Override
+        public LinkIOSDeviceIDResult read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            LinkIOSDeviceIDResult value = new LinkIOSDeviceIDResult();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class LinkKongregateAccountRequestAdapter extends TypeAdapter<LinkKongregateAccountRequest> {
+        private final TypeAdapter<String> stringAdapter;
+
+        private LinkKongregateAccountRequestAdapter(Gson gson) {
+            stringAdapter = gson.getAdapter(String.class);
+        }
+
+        @Override
+        public void write(JsonWriter out, LinkKongregateAccountRequest value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.name("AuthTicket").value(value.AuthTicket);
+            PlayFabJson.writeMap(out.name("CustomTags"), value.CustomTags, stringAdapter);
+            out.name("ForceLink").value(value.ForceLink);
+            out.name("KongregateId").value(value.KongregateId);
+            out.endObject();
+        }
+
+        @Override
+        public LinkKongregateAccountRequest read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            LinkKongregateAccountRequest value = new LinkKongregateAccountRequest();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "AuthTicket": value.AuthTicket = PlayFabJson.readString(in); break;
+                        case "CustomTags": value.CustomTags = PlayFabJson.readMap(in, stringAdapter); break;
+                        case "ForceLink": value.ForceLink = PlayFabJson.readBoolean(in); break;
+                        case "KongregateId": value.KongregateId = PlayFabJson.readString(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class LinkKongregateAccountResultAdapter extends TypeAdapter<LinkKongregateAccountResult> {
+        private LinkKongregateAccountResultAdapter(Gson gson) {
+        }
+
+        @Override
+        public void write(JsonWriter out, LinkKongregateAccountResult value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.endObject();
+        }
+
+        @Override
+        public LinkKongregateAccountResult read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            LinkKongregateAccountResult value = new LinkKongregateAccountResult();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class LinkNintendoServiceAccountRequestAdapter extends TypeAdapter<LinkNintendoServiceAccountRequest> {
+        private final TypeAdapter<String> stringAdapter;
+
+        private LinkNintendoServiceAccountRequestAdapter(Gson gson) {
+            stringAdapter = gson.getAdapter(String.class);
+        }
+
+        @Override
+        public void write(JsonWriter out, LinkNintendoServiceAccountRequest value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            PlayFabJson.writeMap(out.name("CustomTags"), value.CustomTags, stringAdapter);
+            out.name("ForceLink").value(value.ForceLink);
+            out.name("IdentityToken").value(value.IdentityToken);
+            out.endObject();
+        }
+
+        @Override
+        public LinkNintendoServiceAccountRequest read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            LinkNintendoServiceAccountRequest value = new LinkNintendoServiceAccountRequest();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "CustomTags": value.CustomTags = PlayFabJson.readMap(in, stringAdapter); break;
+                        case "ForceLink": value.ForceLink = PlayFabJson.readBoolean(in); break;
+                        case "IdentityToken": value.IdentityToken = PlayFabJson.readString(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class LinkNintendoSwitchDeviceIdRequestAdapter extends TypeAdapter<LinkNintendoSwitchDeviceIdRequest> {
+        private final TypeAdapter<String> stringAdapter;
+
+        private LinkNintendoSwitchDeviceIdRequestAdapter(Gson gson) {
+            stringAdapter = gson.getAdapter(String.class);
+        }
+
+        @Override
+        public void write(JsonWriter out, LinkNintendoSwitchDeviceIdRequest value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            PlayFabJson.writeMap(out.name("CustomTags"), value.CustomTags, stringAdapter);
+            out.name("ForceLink").value(value.ForceLink);
+            out.name("NintendoSwitchDeviceId").value(value.NintendoSwitchDeviceId);
+            out.endObject();
+        }
+
+        @Override
+        public LinkNintendoSwitchDeviceIdRequest read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            LinkNintendoSwitchDeviceIdRequest value = new LinkNintendoSwitchDeviceIdRequest();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "CustomTags": value.CustomTags = PlayFabJson.readMap(in, stringAdapter); break;
+                        case "ForceLink": value.ForceLink = PlayFabJson.readBoolean(in); break;
+                        case "NintendoSwitchDeviceId": value.NintendoSwitchDeviceId = PlayFabJson.readString(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class LinkNintendoSwitchDeviceIdResultAdapter extends TypeAdapter<LinkNintendoSwitchDeviceIdResult> {
+        private LinkNintendoSwitchDeviceIdResultAdapter(Gson gson) {
+        }
+
+        @Override
+        public void write(JsonWriter out, LinkNintendoSwitchDeviceIdResult value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.endObject();
+        }
+
+        @Override
+        public LinkNintendoSwitchDeviceIdResult read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            LinkNintendoSwitchDeviceIdResult value = new LinkNintendoSwitchDeviceIdResult();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class LinkOpenIdConnectRequestAdapter extends TypeAdapter<LinkOpenIdConnectRequest> {
+        private final TypeAdapter<String> stringAdapter;
+
+        private LinkOpenIdConnectRequestAdapter(Gson gson) {
+            stringAdapter = gson.getAdapter(String.class);
+        }
+
+        @Override
+        public void write(JsonWriter out, LinkOpenIdConnectRequest value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.name("ConnectionId").value(value.ConnectionId);
+            PlayFabJson.writeMap(out.name("CustomTags"), value.CustomTags, stringAdapter);
+            out.name("ForceLink").value(value.ForceLink);
+            out.name("IdToken").value(value.IdToken);
+            out.endObject();
+        }
+
+        @Override
+        public LinkOpenIdConnectRequest read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            LinkOpenIdConnectRequest value = new LinkOpenIdConnectRequest();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "ConnectionId": value.ConnectionId = PlayFabJson.readString(in); break;
+                        case "CustomTags": value.CustomTags = PlayFabJson.readMap(in, stringAdapter); break;
+                        case "ForceLink": value.ForceLink = PlayFabJson.readBoolean(in); break;
+                        case "IdToken": value.IdToken = PlayFabJson.readString(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class LinkPSNAccountRequestAdapter extends TypeAdapter<LinkPSNAccountRequest> {
+        private final TypeAdapter<String> stringAdapter;
+
+        private LinkPSNAccountRequestAdapter(Gson gson) {
+            stringAdapter = gson.getAdapter(String.class);
+        }
+
+        @Override
+        public void write(JsonWriter out, LinkPSNAccountRequest value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.name("AuthCode").value(value.AuthCode);
+            PlayFabJson.writeMap(out.name("CustomTags"), value.CustomTags, stringAdapter);
+            out.name("ForceLink").value(value.ForceLink);
+            out.name("IssuerId").value(value.IssuerId);
+            out.name("RedirectUri").value(value.RedirectUri);
+            out.endObject();
+        }
+
+        @Override
+        public LinkPSNAccountRequest read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            LinkPSNAccountRequest value = new LinkPSNAccountRequest();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "AuthCode": value.AuthCode = PlayFabJson.readString(in); break;
+                        case "CustomTags": value.CustomTags = PlayFabJson.readMap(in, stringAdapter); break;
+                        case "ForceLink": value.ForceLink = PlayFabJson.readBoolean(in); break;
+                        case "IssuerId": value.IssuerId = PlayFabJson.readInteger(in); break;
+                        case "RedirectUri": value.RedirectUri = PlayFabJson.readString(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class LinkPSNAccountResultAdapter extends TypeAdapter<LinkPSNAccountResult> {
+        private LinkPSNAccountResultAdapter(Gson gson) {
+        }
+
+        @Override
+        public void write(JsonWriter out, LinkPSNAccountResult value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.endObject();
+        }
+
+        @Override
+        public LinkPSNAccountResult read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            LinkPSNAccountResult value = new LinkPSNAccountResult();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class LinkSteamAccountRequestAdapter extends TypeAdapter<LinkSteamAccountRequest> {
+        private final TypeAdapter<String> stringAdapter;
+
+        private LinkSteamAccountRequestAdapter(Gson gson) {
+            stringAdapter = gson.getAdapter(String.class);
+        }
+
+        @Override
+        public void write(JsonWriter out, LinkSteamAccountRequest value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            PlayFabJson.writeMap(out.name("CustomTags"), value.CustomTags, stringAdapter);
+            out.name("ForceLink").value(value.ForceLink);
+            out.name("SteamTicket").value(value.SteamTicket);
+            out.endObject();
+        }
+
+        @Override
+        public LinkSteamAccountRequest read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            LinkSteamAccountRequest value = new LinkSteamAccountRequest();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "CustomTags": value.CustomTags = PlayFabJson.readMap(in, stringAdapter); break;
+                        case "ForceLink": value.ForceLink = PlayFabJson.readBoolean(in); break;
+                        case "SteamTicket": value.SteamTicket = PlayFabJson.readString(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class LinkSteamAccountResultAdapter extends TypeAdapter<LinkSteamAccountResult> {
+        private LinkSteamAccountResultAdapter(Gson gson) {
+        }
+
+        @Override
+        public void write(JsonWriter out, LinkSteamAccountResult value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.endObject();
+        }
+
+        @Override
+        public LinkSteamAccountResult read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            LinkSteamAccountResult value = new LinkSteamAccountResult();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class LinkTwitchAccountRequestAdapter extends TypeAdapter<LinkTwitchAccountRequest> {
+        private final TypeAdapter<String> stringAdapter;
+
+        private LinkTwitchAccountRequestAdapter(Gson gson) {
+            stringAdapter = gson.getAdapter(String.class);
+        }
+
+        @Override
+        public void write(JsonWriter out, LinkTwitchAccountRequest value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.name("AccessToken").value(value.AccessToken);
+            PlayFabJson.writeMap(out.name("CustomTags"), value.CustomTags, stringAdapter);
+            out.name("ForceLink").value(value.ForceLink);
+            out.endObject();
+        }
+
+        @Override
+        public LinkTwitchAccountRequest read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            LinkTwitchAccountRequest value = new LinkTwitchAccountRequest();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "AccessToken": value.AccessToken = PlayFabJson.readString(in); break;
+                        case "CustomTags": value.CustomTags = PlayFabJson.readMap(in, stringAdapter); break;
+                        case "ForceLink": value.ForceLink = PlayFabJson.readBoolean(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class LinkTwitchAccountResultAdapter extends TypeAdapter<LinkTwitchAccountResult> {
+        private LinkTwitchAccountResultAdapter(Gson gson) {
+        }
+
+        @Override
+        public void write(JsonWriter out, LinkTwitchAccountResult value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.endObject();
+        }
+
+        @Override
+        public LinkTwitchAccountResult read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            LinkTwitchAccountResult value = new LinkTwitchAccountResult();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class LinkXboxAccountRequestAdapter extends TypeAdapter<LinkXboxAccountRequest> {
+        private final TypeAdapter<String> stringAdapter;
+
+        private LinkXboxAccountRequestAdapter(Gson gson) {
+            stringAdapter = gson.getAdapter(String.class);
+        }
+
+        @Override
+        public void write(JsonWriter out, LinkXboxAccountRequest value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            PlayFabJson.writeMap(out.name("CustomTags"), value.CustomTags, stringAdapter);
+            out.name("ForceLink").value(value.ForceLink);
+            out.name("XboxToken").value(value.XboxToken);
+            out.endObject();
+        }
+
+        @Override
+        public LinkXboxAccountRequest read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            LinkXboxAccountRequest value = new LinkXboxAccountRequest();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "CustomTags": value.CustomTags = PlayFabJson.readMap(in, stringAdapter); break;
+                        case "ForceLink": value.ForceLink = PlayFabJson.readBoolean(in); break;
+                        case "XboxToken": value.XboxToken = PlayFabJson.readString(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class LinkXboxAccountResultAdapter extends TypeAdapter<LinkXboxAccountResult> {
+        private LinkXboxAccountResultAdapter(Gson gson) {
+        }
+
+        @Override
+        public void write(JsonWriter out, LinkXboxAccountResult value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.endObject();
+        }
+
+        @Override
+        public LinkXboxAccountResult read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            LinkXboxAccountResult value = new LinkXboxAccountResult();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class ListUsersCharactersRequestAdapter extends TypeAdapter<ListUsersCharactersRequest> {
+        private ListUsersCharactersRequestAdapter(Gson gson) {
+        }
+
+        @Override
+        public void write(JsonWriter out, ListUsersCharactersRequest value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.name("PlayFabId").value(value.PlayFabId);
+            out.endObject();
+        }
+
+        @Override
+        public ListUsersCharactersRequest read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            ListUsersCharactersRequest value = new ListUsersCharactersRequest();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "PlayFabId": value.PlayFabId = PlayFabJson.readString(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class ListUsersCharactersResultAdapter extends TypeAdapter<ListUsersCharactersResult> {
+        private final TypeAdapter<CharacterResult> characterResultAdapter;
+
+        private ListUsersCharactersResultAdapter(Gson gson) {
+            characterResultAdapter = gson.getAdapter(CharacterResult.class);
+        }
+
+        @Override
+        public void write(JsonWriter out, ListUsersCharactersResult value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            PlayFabJson.writeList(out.name("Characters"), value.Characters, characterResultAdapter);
+            out.endObject();
+        }
+
+        @Override
+        public ListUsersCharactersResult read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            ListUsersCharactersResult value = new ListUsersCharactersResult();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "Characters": value.Characters = PlayFabJson.readList(in, characterResultAdapter); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class LocationModelAdapter extends TypeAdapter<LocationModel> {
+        private final TypeAdapter<ContinentCode> continentCodeAdapter;
+        private final TypeAdapter<CountryCode> countryCodeAdapter;
+        private final TypeAdapter<Double> doubleAdapter;
+
+        private LocationModelAdapter(Gson gson) {
+            continentCodeAdapter = gson.getAdapter(ContinentCode.class);
+            countryCodeAdapter = gson.getAdapter(CountryCode.class);
+            doubleAdapter = gson.getAdapter(Double.class);
+        }
+
+        @Override
+        public void write(JsonWriter out, LocationModel value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.name("City").value(value.City);
+            continentCodeAdapter.write(out.name("ContinentCode"), value.ContinentCode);
+            countryCodeAdapter.write(out.name("CountryCode"), value.CountryCode);
+            doubleAdapter.write(out.name("Latitude"), value.Latitude);
+            doubleAdapter.write(out.name("Longitude"), value.Longitude);
+            out.endObject();
+        }
+
+        @Override
+        public LocationModel read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            LocationModel value = new LocationModel();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "City": value.City = PlayFabJson.readString(in); break;
+                        case "ContinentCode": value.ContinentCode = continentCodeAdapter.read(in); break;
+                        case "CountryCode": value.CountryCode = countryCodeAdapter.read(in); break;
+                        case "Latitude": value.Latitude = doubleAdapter.read(in); break;
+                        case "Longitude": value.Longitude = doubleAdapter.read(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class LoginResultAdapter extends TypeAdapter<LoginResult> {
+        private final TypeAdapter<EntityTokenResponse> entityTokenResponseAdapter;
+        private final TypeAdapter<GetPlayerCombinedInfoResultPayload> getPlayerCombinedInfoResultPayloadAdapter;
+        private final TypeAdapter<Date> dateAdapter;
+        private final TypeAdapter<UserSettings> userSettingsAdapter;
+        private final TypeAdapter<TreatmentAssignment> treatmentAssignmentAdapter;
+
+        private LoginResultAdapter(Gson gson) {
+            entityTokenResponseAdapter = gson.getAdapter(EntityTokenResponse.class);
+            getPlayerCombinedInfoResultPayloadAdapter = gson.getAdapter(GetPlayerCombinedInfoResultPayload.class);
+            dateAdapter = gson.getAdapter(Date.class);
+            userSettingsAdapter = gson.getAdapter(UserSettings.class);
+            treatmentAssignmentAdapter = gson.getAdapter(TreatmentAssignment.class);
+        }
+
+        @Override
+        public void write(JsonWriter out, LoginResult value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            entityTokenResponseAdapter.write(out.name("EntityToken"), value.EntityToken);
+            getPlayerCombinedInfoResultPayloadAdapter.write(out.name("InfoResultPayload"), value.InfoResultPayload);
+            dateAdapter.write(out.name("LastLoginTime"), value.LastLoginTime);
+            out.name("NewlyCreated").value(value.NewlyCreated);
+            out.name("PlayFabId").value(value.PlayFabId);
+            out.name("SessionTicket").value(value.SessionTicket);
+            userSettingsAdapter.write(out.name("SettingsForUser"), value.SettingsForUser);
+            treatmentAssignmentAdapter.write(out.name("TreatmentAssignment"), value.TreatmentAssignment);
+            out.endObject();
+        }
+
+        @Override
+        public LoginResult read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            LoginResult value = new LoginResult();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "EntityToken": value.EntityToken = entityTokenResponseAdapter.read(in); break;
+                        case "InfoResultPayload": value.InfoResultPayload = getPlayerCombinedInfoResultPayloadAdapter.read(in); break;
+                        case "LastLoginTime": value.LastLoginTime = dateAdapter.read(in); break;
+                        case "NewlyCreated": value.NewlyCreated = PlayFabJson.readBoolean(in); break;
+                        case "PlayFabId": value.PlayFabId = PlayFabJson.readString(in); break;
+                        case "SessionTicket": value.SessionTicket = PlayFabJson.readString(in); break;
+                        case "SettingsForUser": value.SettingsForUser = userSettingsAdapter.read(in); break;
+                        case "TreatmentAssignment": value.TreatmentAssignment = treatmentAssignmentAdapter.read(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class LoginWithAndroidDeviceIDRequestAdapter extends TypeAdapter<LoginWithAndroidDeviceIDRequest> {
+        private final TypeAdapter<String> stringAdapter;
+        private final TypeAdapter<GetPlayerCombinedInfoRequestParams> getPlayerCombinedInfoRequestParamsAdapter;
+
+        private LoginWithAndroidDeviceIDRequestAdapter(Gson gson) {
+            stringAdapter = gson.getAdapter(String.class);
+            getPlayerCombinedInfoRequestParamsAdapter = gson.getAdapter(GetPlayerCombinedInfoRequestParams.class);
+        }
+
+        @Override
+        public void write(JsonWriter out, LoginWithAndroidDeviceIDRequest value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.name("AndroidDevice").value(value.AndroidDevice);
+            out.name("AndroidDeviceId").value(value.AndroidDeviceId);
+            out.name("CreateAccount").value(value.CreateAccount);
+            PlayFabJson.writeMap(out.name("CustomTags"), value.CustomTags, stringAdapter);
+            out.name("EncryptedRequest").value(value.EncryptedRequest);
+            getPlayerCombinedInfoRequestParamsAdapter.write(out.name("InfoRequestParameters"), value.InfoRequestParameters);
+            out.name("OS").value(value.OS);
+            out.name("PlayerSecret").value(value.PlayerSecret);
+            out.name("TitleId").value(value.TitleId);
+            out.endObject();
+        }
+
+        @Override
+        public LoginWithAndroidDeviceIDRequest read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            LoginWithAndroidDeviceIDRequest value = new LoginWithAndroidDeviceIDRequest();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "AndroidDevice": value.AndroidDevice = PlayFabJson.readString(in); break;
+                        case "AndroidDeviceId": value.AndroidDeviceId = PlayFabJson.readString(in); break;
+                        case "CreateAccount": value.CreateAccount = PlayFabJson.readBoolean(in); break;
+                        case "CustomTags": value.CustomTags = PlayFabJson.readMap(in, stringAdapter); break;
+                        case "EncryptedRequest": value.EncryptedRequest = PlayFabJson.readString(in); break;
+                        case "InfoRequestParameters": value.InfoRequestParameters = getPlayerCombinedInfoRequestParamsAdapter.read(in); break;
+                        case "OS": value.OS = PlayFabJson.readString(in); break;
+                        case "PlayerSecret": value.PlayerSecret = PlayFabJson.readString(in); break;
+                        case "TitleId": value.TitleId = PlayFabJson.readString(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class LoginWithAppleRequestAdapter extends TypeAdapter<LoginWithAppleRequest> {
+        private final TypeAdapter<String> stringAdapter;
+        private final TypeAdapter<GetPlayerCombinedInfoRequestParams> getPlayerCombinedInfoRequestParamsAdapter;
+
+        private LoginWithAppleRequestAdapter(Gson gson) {
+            stringAdapter = gson.getAdapter(String.class);
+            getPlayerCombinedInfoRequestParamsAdapter = gson.getAdapter(GetPlayerCombinedInfoRequestParams.class);
+        }
+
+        @Override
+        public void write(JsonWriter out, LoginWithAppleRequest value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.name("CreateAccount").value(value.CreateAccount);
+            PlayFabJson.writeMap(out.name("CustomTags"), value.CustomTags, stringAdapter);
+            out.name("EncryptedRequest").value(value.EncryptedRequest);
+            out.name("IdentityToken").value(value.IdentityToken);
+            getPlayerCombinedInfoRequestParamsAdapter.write(out.name("InfoRequestParameters"), value.InfoRequestParameters);
+            out.name("PlayerSecret").value(value.PlayerSecret);
+            out.name("TitleId").value(value.TitleId);
+            out.endObject();
+        }
+
+        @Override
+        public LoginWithAppleRequest read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            LoginWithAppleRequest value = new LoginWithAppleRequest();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "CreateAccount": value.CreateAccount = PlayFabJson.readBoolean(in); break;
+                        case "CustomTags": value.CustomTags = PlayFabJson.readMap(in, stringAdapter); break;
+                        case "EncryptedRequest": value.EncryptedRequest = PlayFabJson.readString(in); break;
+                        case "IdentityToken": value.IdentityToken = PlayFabJson.readString(in); break;
+                        case "InfoRequestParameters": value.InfoRequestParameters = getPlayerCombinedInfoRequestParamsAdapter.read(in); break;
+                        case "PlayerSecret": value.PlayerSecret = PlayFabJson.readString(in); break;
+                        case "TitleId": value.TitleId = PlayFabJson.readString(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class LoginWithCustomIDRequestAdapter extends TypeAdapter<LoginWithCustomIDRequest> {
+        private final TypeAdapter<String> stringAdapter;
+        private final TypeAdapter<GetPlayerCombinedInfoRequestParams> getPlayerCombinedInfoRequestParamsAdapter;
+
+        private LoginWithCustomIDRequestAdapter(Gson gson) {
+            stringAdapter = gson.getAdapter(String.class);
+            getPlayerCombinedInfoRequestParamsAdapter = gson.getAdapter(GetPlayerCombinedInfoRequestParams.class);
+        }
+
+        @Override
+        public void write(JsonWriter out, LoginWithCustomIDRequest value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.name("CreateAccount").value(value.CreateAccount);
+            out.name("CustomId").value(value.CustomId);
+            PlayFabJson.writeMap(out.name("CustomTags"), value.CustomTags, stringAdapter);
+            out.name("EncryptedRequest").value(value.EncryptedRequest);
+            getPlayerCombinedInfoRequestParamsAdapter.write(out.name("InfoRequestParameters"), value.InfoRequestParameters);
+            out.name("PlayerSecret").value(value.PlayerSecret);
+            out.name("TitleId").value(value.TitleId);
+            out.endObject();
+        }
+
+        @Override
+        public LoginWithCustomIDRequest read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            LoginWithCustomIDRequest value = new LoginWithCustomIDRequest();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "CreateAccount": value.CreateAccount = PlayFabJson.readBoolean(in); break;
+                        case "CustomId": value.CustomId = PlayFabJson.readString(in); break;
+                        case "CustomTags": value.CustomTags = PlayFabJson.readMap(in, stringAdapter); break;
+                        case "EncryptedRequest": value.EncryptedRequest = PlayFabJson.readString(in); break;
+                        case "InfoRequestParameters": value.InfoRequestParameters = getPlayerCombinedInfoRequestParamsAdapter.read(in); break;
+                        case "PlayerSecret": value.PlayerSecret = PlayFabJson.readString(in); break;
+                        case "TitleId": value.TitleId = PlayFabJson.readString(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class LoginWithEmailAddressRequestAdapter extends TypeAdapter<LoginWithEmailAddressRequest> {
+        private final TypeAdapter<String> stringAdapter;
+        private final TypeAdapter<GetPlayerCombinedInfoRequestParams> getPlayerCombinedInfoRequestParamsAdapter;
+
+        private LoginWithEmailAddressRequestAdapter(Gson gson) {
+            stringAdapter = gson.getAdapter(String.class);
+            getPlayerCombinedInfoRequestParamsAdapter = gson.getAdapter(GetPlayerCombinedInfoRequestParams.class);
+        }
+
+        @Override
+        public void write(JsonWriter out, LoginWithEmailAddressRequest value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            PlayFabJson.writeMap(out.name("CustomTags"), value.CustomTags, stringAdapter);
+            out.name("Email").value(value.Email);
+            getPlayerCombinedInfoRequestParamsAdapter.write(out.name("InfoRequestParameters"), value.InfoRequestParameters);
+            out.name("Password").value(value.Password);
+            out.name("TitleId").value(value.TitleId);
+            out.endObject();
+        }
+
+        @Override
+        public LoginWithEmailAddressRequest read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            LoginWithEmailAddressRequest value = new LoginWithEmailAddressRequest();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "CustomTags": value.CustomTags = PlayFabJson.readMap(in, stringAdapter); break;
+                        case "Email": value.Email = PlayFabJson.readString(in); break;
+                        case "InfoRequestParameters": value.InfoRequestParameters = getPlayerCombinedInfoRequestParamsAdapter.read(in); break;
+                        case "Password": value.Password = PlayFabJson.readString(in); break;
+                        case "TitleId": value.TitleId = PlayFabJson.readString(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class LoginWithFacebookInstantGamesIdRequestAdapter extends TypeAdapter<LoginWithFacebookInstantGamesIdRequest> {
+        private final TypeAdapter<String> stringAdapter;
+        private final TypeAdapter<GetPlayerCombinedInfoRequestParams> getPlayerCombinedInfoRequestParamsAdapter;
+
+        private LoginWithFacebookInstantGamesIdRequestAdapter(Gson gson) {
+            stringAdapter = gson.getAdapter(String.class);
+            getPlayerCombinedInfoRequestParamsAdapter = gson.getAdapter(GetPlayerCombinedInfoRequestParams.class);
+        }
+
+        @Override
+        public void write(JsonWriter out, LoginWithFacebookInstantGamesIdRequest value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.name("CreateAccount").value(value.CreateAccount);
+            PlayFabJson.writeMap(out.name("CustomTags"), value.CustomTags, stringAdapter);
+            out.name("EncryptedRequest").value(value.EncryptedRequest);
+            out.name("FacebookInstantGamesSignature").value(value.FacebookInstantGamesSignature);
+            getPlayerCombinedInfoRequestParamsAdapter.write(out.name("InfoRequestParameters"), value.InfoRequestParameters);
+            out.name("PlayerSecret").value(value.PlayerSecret);
+            out.name("TitleId").value(value.TitleId);
+            out.endObject();
+        }
+
+        @Override
+        public LoginWithFacebookInstantGamesIdRequest read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            LoginWithFacebookInstantGamesIdRequest value = new LoginWithFacebookInstantGamesIdRequest();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "CreateAccount": value.CreateAccount = PlayFabJson.readBoolean(in); break;
+                        case "CustomTags": value.CustomTags = PlayFabJson.readMap(in, stringAdapter); break;
+                        case "EncryptedRequest": value.EncryptedRequest = PlayFabJson.readString(in); break;
+                        case "FacebookInstantGamesSignature": value.FacebookInstantGamesSignature = PlayFabJson.readString(in); break;
+                        case "InfoRequestParameters": value.InfoRequestParameters = getPlayerCombinedInfoRequestParamsAdapter.read(in); break;
+                        case "PlayerSecret": value.PlayerSecret = PlayFabJson.readString(in); break;
+                        case "TitleId": value.TitleId = PlayFabJson.readString(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class LoginWithFacebookRequestAdapter extends TypeAdapter<LoginWithFacebookRequest> {
+        private final TypeAdapter<String> stringAdapter;
+        private final TypeAdapter<GetPlayerCombinedInfoRequestParams> getPlayerCombinedInfoRequestParamsAdapter;
+
+        private LoginWithFacebookRequestAdapter(Gson gson) {
+            stringAdapter = gson.getAdapter(String.class);
+            getPlayerCombinedInfoRequestParamsAdapter = gson.getAdapter(GetPlayerCombinedInfoRequestParams.class);
+        }
+
+        @Override
+        public void write(JsonWriter out, LoginWithFacebookRequest value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.name("AccessToken").value(value.AccessToken);
+            out.name("CreateAccount").value(value.CreateAccount);
+            PlayFabJson.writeMap(out.name("CustomTags"), value.CustomTags, stringAdapter);
+            out.name("EncryptedRequest").value(value.EncryptedRequest);
+            getPlayerCombinedInfoRequestParamsAdapter.write(out.name("InfoRequestParameters"), value.InfoRequestParameters);
+            out.name("PlayerSecret").value(value.PlayerSecret);
+            out.name("TitleId").value(value.TitleId);
+            out.endObject();
+        }
+
+        @Override
+        public LoginWithFacebookRequest read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            LoginWithFacebookRequest value = new LoginWithFacebookRequest();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "AccessToken": value.AccessToken = PlayFabJson.readString(in); break;
+                        case "CreateAccount": value.CreateAccount = PlayFabJson.readBoolean(in); break;
+                        case "CustomTags": value.CustomTags = PlayFabJson.readMap(in, stringAdapter); break;
+                        case "EncryptedRequest": value.EncryptedRequest = PlayFabJson.readString(in); break;
+                        case "InfoRequestParameters": value.InfoRequestParameters = getPlayerCombinedInfoRequestParamsAdapter.read(in); break;
+                        case "PlayerSecret": value.PlayerSecret = PlayFabJson.readString(in); break;
+                        case "TitleId": value.TitleId = PlayFabJson.readString(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class LoginWithGameCenterRequestAdapter extends TypeAdapter<LoginWithGameCenterRequest> {
+        private final TypeAdapter<String> stringAdapter;
+        private final TypeAdapter<GetPlayerCombinedInfoRequestParams> getPlayerCombinedInfoRequestParamsAdapter;
+
+        private LoginWithGameCenterRequestAdapter(Gson gson) {
+            stringAdapter = gson.getAdapter(String.class);
+            getPlayerCombinedInfoRequestParamsAdapter = gson.getAdapter(GetPlayerCombinedInfoRequestParams.class);
+        }
+
+        @Override
+        public void write(JsonWriter out, LoginWithGameCenterRequest value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.name("CreateAccount").value(value.CreateAccount);
+            PlayFabJson.writeMap(out.name("CustomTags"), value.CustomTags, stringAdapter);
+            out.name("EncryptedRequest").value(value.EncryptedRequest);
+            getPlayerCombinedInfoRequestParamsAdapter.write(out.name("InfoRequestParameters"), value.InfoRequestParameters);
+            out.name("PlayerId").value(value.PlayerId);
+            out.name("PlayerSecret").value(value.PlayerSecret);
+            out.name("PublicKeyUrl").value(value.PublicKeyUrl);
+            out.name("Salt").value(value.Salt);
+            out.name("Signature").value(value.Signature);
+            out.name("Timestamp").value(value.Timestamp);
+            out.name("TitleId").value(value.TitleId);
+            out.endObject();
+        }
+
+        @Override
+        public LoginWithGameCenterRequest read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            LoginWithGameCenterRequest value = new LoginWithGameCenterRequest();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "CreateAccount": value.CreateAccount = PlayFabJson.readBoolean(in); break;
+                        case "CustomTags": value.CustomTags = PlayFabJson.readMap(in, stringAdapter); break;
+                        case "EncryptedRequest": value.EncryptedRequest = PlayFabJson.readString(in); break;
+                        case "InfoRequestParameters": value.InfoRequestParameters = getPlayerCombinedInfoRequestParamsAdapter.read(in); break;
+                        case "PlayerId": value.PlayerId = PlayFabJson.readString(in); break;
+                        case "PlayerSecret": value.PlayerSecret = PlayFabJson.readString(in); break;
+                        case "PublicKeyUrl": value.PublicKeyUrl = PlayFabJson.readString(in); break;
+                        case "Salt": value.Salt = PlayFabJson.readString(in); break;
+                        case "Signature": value.Signature = PlayFabJson.readString(in); break;
+                        case "Timestamp": value.Timestamp = PlayFabJson.readString(in); break;
+                        case "TitleId": value.TitleId = PlayFabJson.readString(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class LoginWithGoogleAccountRequestAdapter extends TypeAdapter<LoginWithGoogleAccountRequest> {
+        private final TypeAdapter<String> stringAdapter;
+        private final TypeAdapter<GetPlayerCombinedInfoRequestParams> getPlayerCombinedInfoRequestParamsAdapter;
+
+        private LoginWithGoogleAccountRequestAdapter(Gson gson) {
+            stringAdapter = gson.getAdapter(String.class);
+            getPlayerCombinedInfoRequestParamsAdapter = gson.getAdapter(GetPlayerCombinedInfoRequestParams.class);
+        }
+
+        @Override
+        public void write(JsonWriter out, LoginWithGoogleAccountRequest value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.name("CreateAccount").value(value.CreateAccount);
+            PlayFabJson.writeMap(out.name("CustomTags"), value.CustomTags, stringAdapter);
+            out.name("EncryptedRequest").value(value.EncryptedRequest);
+            getPlayerCombinedInfoRequestParamsAdapter.write(out.name("InfoRequestParameters"), value.InfoRequestParameters);
+            out.name("PlayerSecret").value(value.PlayerSecret);
+            out.name("ServerAuthCode").value(value.ServerAuthCode);
+            out.name("TitleId").value(value.TitleId);
+            out.endObject();
+        }
+
+        @Override
+        public LoginWithGoogleAccountRequest read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            LoginWithGoogleAccountRequest value = new LoginWithGoogleAccountRequest();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "CreateAccount": value.CreateAccount = PlayFabJson.readBoolean(in); break;
+                        case "CustomTags": value.CustomTags = PlayFabJson.readMap(in, stringAdapter); break;
+                        case "EncryptedRequest": value.EncryptedRequest = PlayFabJson.readString(in); break;
+                        case "InfoRequestParameters": value.InfoRequestParameters = getPlayerCombinedInfoRequestParamsAdapter.read(in); break;
+                        case "PlayerSecret": value.PlayerSecret = PlayFabJson.readString(in); break;
+                        case "ServerAuthCode": value.ServerAuthCode = PlayFabJson.readString(in); break;
+                        case "TitleId": value.TitleId = PlayFabJson.readString(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class LoginWithIOSDeviceIDRequestAdapter extends TypeAdapter<LoginWithIOSDeviceIDRequest> {
+        private final TypeAdapter<String> stringAdapter;
+        private final TypeAdapter<GetPlayerCombinedInfoRequestParams> getPlayerCombinedInfoRequestParamsAdapter;
+
+        private LoginWithIOSDeviceIDRequestAdapter(Gson gson) {
+            stringAdapter = gson.getAdapter(String.class);
+            getPlayerCombinedInfoRequestParamsAdapter = gson.getAdapter(GetPlayerCombinedInfoRequestParams.class);
+        }
+
+        @Override
+        public void write(JsonWriter out, LoginWithIOSDeviceIDRequest value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.name("CreateAccount").value(value.CreateAccount);
+            PlayFabJson.writeMap(out.name("CustomTags"), value.CustomTags, stringAdapter);
+            out.name("DeviceId").value(value.DeviceId);
+            out.name("DeviceModel").value(value.DeviceModel);
+            out.name("EncryptedRequest").value(value.EncryptedRequest);
+            getPlayerCombinedInfoRequestParamsAdapter.write(out.name("InfoRequestParameters"), value.InfoRequestParameters);
+            out.name("OS").value(value.OS);
+            out.name("PlayerSecret").value(value.PlayerSecret);
+            out.name("TitleId").value(value.TitleId);
+            out.endObject();
+        }
+
+        @Override
+        public LoginWithIOSDeviceIDRequest read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            LoginWithIOSDeviceIDRequest value = new LoginWithIOSDeviceIDRequest();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "CreateAccount": value.CreateAccount = PlayFabJson.readBoolean(in); break;
+                        case "CustomTags": value.CustomTags = PlayFabJson.readMap(in, stringAdapter); break;
+                        case "DeviceId": value.DeviceId = PlayFabJson.readString(in); break;
+                        case "DeviceModel": value.DeviceModel = PlayFabJson.readString(in); break;
+                        case "EncryptedRequest": value.EncryptedRequest = PlayFabJson.readString(in); break;
+                        case "InfoRequestParameters": value.InfoRequestParameters = getPlayerCombinedInfoRequestParamsAdapter.read(in); break;
+                        case "OS": value.OS = PlayFabJson.readString(in); break;
+                        case "PlayerSecret": value.PlayerSecret = PlayFabJson.readString(in); break;
+                        case "TitleId": value.TitleId = PlayFabJson.readString(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class LoginWithKongregateRequestAdapter extends TypeAdapter<LoginWithKongregateRequest> {
+        private final TypeAdapter<String> stringAdapter;
+        private final TypeAdapter<GetPlayerCombinedInfoRequestParams> getPlayerCombinedInfoRequestParamsAdapter;
+
+        private LoginWithKongregateRequestAdapter(Gson gson) {
+            stringAdapter = gson.getAdapter(String.class);
+            getPlayerCombinedInfoRequestParamsAdapter = gson.getAdapter(GetPlayerCombinedInfoRequestParams.class);
+        }
+
+        @Override
+        public void write(JsonWriter out, LoginWithKongregateRequest value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.name("AuthTicket").value(value.AuthTicket);
+            out.name("CreateAccount").value(value.CreateAccount);
+            PlayFabJson.writeMap(out.name("CustomTags"), value.CustomTags, stringAdapter);
+            out.name("EncryptedRequest").value(value.EncryptedRequest);
+            getPlayerCombinedInfoRequestParamsAdapter.write(out.name("InfoRequestParameters"), value.InfoRequestParameters);
+            out.name("KongregateId").value(value.KongregateId);
+            out.name("PlayerSecret").value(value.PlayerSecret);
+            out.name("TitleId").value(value.TitleId);
+            out.endObject();
+        }
+
+        @Override
+        public LoginWithKongregateRequest read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            LoginWithKongregateRequest value = new LoginWithKongregateRequest();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "AuthTicket": value.AuthTicket = PlayFabJson.readString(in); break;
+                        case "CreateAccount": value.CreateAccount = PlayFabJson.readBoolean(in); break;
+                        case "CustomTags": value.CustomTags = PlayFabJson.readMap(in, stringAdapter); break;
+                        case "EncryptedRequest": value.EncryptedRequest = PlayFabJson.readString(in); break;
+                        case "InfoRequestParameters": value.InfoRequestParameters = getPlayerCombinedInfoRequestParamsAdapter.read(in); break;
+                        case "KongregateId": value.KongregateId = PlayFabJson.readString(in); break;
+                        case "PlayerSecret": value.PlayerSecret = PlayFabJson.readString(in); break;
+                        case "TitleId": value.TitleId = PlayFabJson.readString(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class LoginWithNintendoServiceAccountRequestAdapter extends TypeAdapter<LoginWithNintendoServiceAccountRequest> {
+        private final TypeAdapter<String> stringAdapter;
+        private final TypeAdapter<GetPlayerCombinedInfoRequestParams> getPlayerCombinedInfoRequestParamsAdapter;
+
+        private LoginWithNintendoServiceAccountRequestAdapter(Gson gson) {
+            stringAdapter = gson.getAdapter(String.class);
+            getPlayerCombinedInfoRequestParamsAdapter = gson.getAdapter(GetPlayerCombinedInfoRequestParams.class);
+        }
+
+        @Override
+        public void write(JsonWriter out, LoginWithNintendoServiceAccountRequest value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.name("CreateAccount").value(value.CreateAccount);
+            PlayFabJson.writeMap(out.name("CustomTags"), value.CustomTags, stringAdapter);
+            out.name("EncryptedRequest").value(value.EncryptedRequest);
+            out.name("IdentityToken").value(value.IdentityToken);
+            getPlayerCombinedInfoRequestParamsAdapter.write(out.name("InfoRequestParameters"), value.InfoRequestParameters);
+            out.name("PlayerSecret").value(value.PlayerSecret);
+            out.name("TitleId").value(value.TitleId);
+            out.endObject();
+        }
+
+        @Override
+        public LoginWithNintendoServiceAccountRequest read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            LoginWithNintendoServiceAccountRequest value = new LoginWithNintendoServiceAccountRequest();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "CreateAccount": value.CreateAccount = PlayFabJson.readBoolean(in); break;
+                        case "CustomTags": value.CustomTags = PlayFabJson.readMap(in, stringAdapter); break;
+                        case "EncryptedRequest": value.EncryptedRequest = PlayFabJson.readString(in); break;
+                        case "IdentityToken": value.IdentityToken = PlayFabJson.readString(in); break;
+                        case "InfoRequestParameters": value.InfoRequestParameters = getPlayerCombinedInfoRequestParamsAdapter.read(in); break;
+                        case "PlayerSecret": value.PlayerSecret = PlayFabJson.readString(in); break;
+                        case "TitleId": value.TitleId = PlayFabJson.readString(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class LoginWithNintendoSwitchDeviceIdRequestAdapter extends TypeAdapter<LoginWithNintendoSwitchDeviceIdRequest> {
+        private final TypeAdapter<String> stringAdapter;
+        private final TypeAdapter<GetPlayerCombinedInfoRequestParams> getPlayerCombinedInfoRequestParamsAdapter;
+
+        private LoginWithNintendoSwitchDeviceIdRequestAdapter(Gson gson) {
+            stringAdapter = gson.getAdapter(String.class);
+            getPlayerCombinedInfoRequestParamsAdapter = gson.getAdapter(GetPlayerCombinedInfoRequestParams.class);
+        }
+
+        @Override
+        public void write(JsonWriter out, LoginWithNintendoSwitchDeviceIdRequest value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.name("CreateAccount").value(value.CreateAccount);
+            PlayFabJson.writeMap(out.name("CustomTags"), value.CustomTags, stringAdapter);
+            out.name("EncryptedRequest").value(value.EncryptedRequest);
+            getPlayerCombinedInfoRequestParamsAdapter.write(out.name("InfoRequestParameters"), value.InfoRequestParameters);
+            out.name("NintendoSwitchDeviceId").value(value.NintendoSwitchDeviceId);
+            out.name("PlayerSecret").value(value.PlayerSecret);
+            out.name("TitleId").value(value.TitleId);
+            out.endObject();
+        }
+
+        @Override
+        public LoginWithNintendoSwitchDeviceIdRequest read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            LoginWithNintendoSwitchDeviceIdRequest value = new LoginWithNintendoSwitchDeviceIdRequest();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "CreateAccount": value.CreateAccount = PlayFabJson.readBoolean(in); break;
+                        case "CustomTags": value.CustomTags = PlayFabJson.readMap(in, stringAdapter); break;
+                        case "EncryptedRequest": value.EncryptedRequest = PlayFabJson.readString(in); break;
+                        case "InfoRequestParameters": value.InfoRequestParameters = getPlayerCombinedInfoRequestParamsAdapter.read(in); break;
+                        case "NintendoSwitchDeviceId": value.NintendoSwitchDeviceId = PlayFabJson.readString(in); break;
+                        case "PlayerSecret": value.PlayerSecret = PlayFabJson.readString(in); break;
+                        case "TitleId": value.TitleId = PlayFabJson.readString(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class LoginWithOpenIdConnectRequestAdapter extends TypeAdapter<LoginWithOpenIdConnectRequest> {
+        private final TypeAdapter<String> stringAdapter;
+        private final TypeAdapter<GetPlayerCombinedInfoRequestParams> getPlayerCombinedInfoRequestParamsAdapter;
+
+        private LoginWithOpenIdConnectRequestAdapter(Gson gson) {
+            stringAdapter = gson.getAdapter(String.class);
+            getPlayerCombinedInfoRequestParamsAdapter = gson.getAdapter(GetPlayerCombinedInfoRequestParams.class);
+        }
+
+        @Override
+        public void write(JsonWriter out, LoginWithOpenIdConnectRequest value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.name("ConnectionId").value(value.ConnectionId);
+            out.name("CreateAccount").value(value.CreateAccount);
+            PlayFabJson.writeMap(out.name("CustomTags"), value.CustomTags, stringAdapter);
+            out.name("EncryptedRequest").value(value.EncryptedRequest);
+            out.name("IdToken").value(value.IdToken);
+            getPlayerCombinedInfoRequestParamsAdapter.write(out.name("InfoRequestParameters"), value.InfoRequestParameters);
+            out.name("PlayerSecret").value(value.PlayerSecret);
+            out.name("TitleId").value(value.TitleId);
+            out.endObject();
+        }
+
+        @Override
+        public LoginWithOpenIdConnectRequest read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            LoginWithOpenIdConnectRequest value = new LoginWithOpenIdConnectRequest();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "ConnectionId": value.ConnectionId = PlayFabJson.readString(in); break;
+                        case "CreateAccount": value.CreateAccount = PlayFabJson.readBoolean(in); break;
+                        case "CustomTags": value.CustomTags = PlayFabJson.readMap(in, stringAdapter); break;
+                        case "EncryptedRequest": value.EncryptedRequest = PlayFabJson.readString(in); break;
+                        case "IdToken": value.IdToken = PlayFabJson.readString(in); break;
+                        case "InfoRequestParameters": value.InfoRequestParameters = getPlayerCombinedInfoRequestParamsAdapter.read(in); break;
+                        case "PlayerSecret": value.PlayerSecret = PlayFabJson.readString(in); break;
+                        case "TitleId": value.TitleId = PlayFabJson.readString(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class LoginWithPlayFabRequestAdapter extends TypeAdapter<LoginWithPlayFabRequest> {
+        private final TypeAdapter<String> stringAdapter;
+        private final TypeAdapter<GetPlayerCombinedInfoRequestParams> getPlayerCombinedInfoRequestParamsAdapter;
+
+        private LoginWithPlayFabRequestAdapter(Gson gson) {
+            stringAdapter = gson.getAdapter(String.class);
+            getPlayerCombinedInfoRequestParamsAdapter = gson.getAdapter(GetPlayerCombinedInfoRequestParams.class);
+        }
+
+        @Override
+        public void write(JsonWriter out, LoginWithPlayFabRequest value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            PlayFabJson.writeMap(out.name("CustomTags"), value.CustomTags, stringAdapter);
+            getPlayerCombinedInfoRequestParamsAdapter.write(out.name("InfoRequestParameters"), value.InfoRequestParameters);
+            out.name("Password").value(value.Password);
+            out.name("TitleId").value(value.TitleId);
+            out.name("Username").value(value.Username);
+            out.endObject();
+        }
+
+        @Override
+        public LoginWithPlayFabRequest read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            LoginWithPlayFabRequest value = new LoginWithPlayFabRequest();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "CustomTags": value.CustomTags = PlayFabJson.readMap(in, stringAdapter); break;
+                        case "InfoRequestParameters": value.InfoRequestParameters = getPlayerCombinedInfoRequestParamsAdapter.read(in); break;
+                        case "Password": value.Password = PlayFabJson.readString(in); break;
+                        case "TitleId": value.TitleId = PlayFabJson.readString(in); break;
+                        case "Username": value.Username = PlayFabJson.readString(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class LoginWithPSNRequestAdapter extends TypeAdapter<LoginWithPSNRequest> {
+        private final TypeAdapter<String> stringAdapter;
+        private final TypeAdapter<GetPlayerCombinedInfoRequestParams> getPlayerCombinedInfoRequestParamsAdapter;
+
+        private LoginWithPSNRequestAdapter(Gson gson) {
+            stringAdapter = gson.getAdapter(String.class);
+            getPlayerCombinedInfoRequestParamsAdapter = gson.getAdapter(GetPlayerCombinedInfoRequestParams.class);
+        }
+
+        @Override
+        public void write(JsonWriter out, LoginWithPSNRequest value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.name("AuthCode").value(value.AuthCode);
+            out.name("CreateAccount").value(value.CreateAccount);
+            PlayFabJson.writeMap(out.name("CustomTags"), value.CustomTags, stringAdapter);
+            out.name("EncryptedRequest").value(value.EncryptedRequest);
+            getPlayerCombinedInfoRequestParamsAdapter.write(out.name("InfoRequestParameters"), value.InfoRequestParameters);
+            out.name("IssuerId").value(value.IssuerId);
+            out.name("PlayerSecret").value(value.PlayerSecret);
+            out.name("RedirectUri").value(value.RedirectUri);
+            out.name("TitleId").value(value.TitleId);
+            out.endObject();
+        }
+
+        @Override
+        public LoginWithPSNRequest read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            LoginWithPSNRequest value = new LoginWithPSNRequest();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "AuthCode": value.AuthCode = PlayFabJson.readString(in); break;
+                        case "CreateAccount": value.CreateAccount = PlayFabJson.readBoolean(in); break;
+                        case "CustomTags": value.CustomTags = PlayFabJson.readMap(in, stringAdapter); break;
+                        case "EncryptedRequest": value.EncryptedRequest = PlayFabJson.readString(in); break;
+                        case "InfoRequestParameters": value.InfoRequestParameters = getPlayerCombinedInfoRequestParamsAdapter.read(in); break;
+                        case "IssuerId": value.IssuerId = PlayFabJson.readInteger(in); break;
+                        case "PlayerSecret": value.PlayerSecret = PlayFabJson.readString(in); break;
+                        case "RedirectUri": value.RedirectUri = PlayFabJson.readString(in); break;
+                        case "TitleId": value.TitleId = PlayFabJson.readString(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class LoginWithSteamRequestAdapter extends TypeAdapter<LoginWithSteamRequest> {
+        private final TypeAdapter<String> stringAdapter;
+        private final TypeAdapter<GetPlayerCombinedInfoRequestParams> getPlayerCombinedInfoRequestParamsAdapter;
+
+        private LoginWithSteamRequestAdapter(Gson gson) {
+            stringAdapter = gson.getAdapter(String.class);
+            getPlayerCombinedInfoRequestParamsAdapter = gson.getAdapter(GetPlayerCombinedInfoRequestParams.class);
+        }
+
+        @Override
+        public void write(JsonWriter out, LoginWithSteamRequest value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.name("CreateAccount").value(value.CreateAccount);
+            PlayFabJson.writeMap(out.name("CustomTags"), value.CustomTags, stringAdapter);
+            out.name("EncryptedRequest").value(value.EncryptedRequest);
+            getPlayerCombinedInfoRequestParamsAdapter.write(out.name("InfoRequestParameters"), value.InfoRequestParameters);
+            out.name("PlayerSecret").value(value.PlayerSecret);
+            out.name("SteamTicket").value(value.SteamTicket);
+            out.name("TitleId").value(value.TitleId);
+            out.endObject();
+        }
+
+        @Override
+        public LoginWithSteamRequest read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            LoginWithSteamRequest value = new LoginWithSteamRequest();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "CreateAccount": value.CreateAccount = PlayFabJson.readBoolean(in); break;
+                        case "CustomTags": value.CustomTags = PlayFabJson.readMap(in, stringAdapter); break;
+                        case "EncryptedRequest": value.EncryptedRequest = PlayFabJson.readString(in); break;
+                        case "InfoRequestParameters": value.InfoRequestParameters = getPlayerCombinedInfoRequestParamsAdapter.read(in); break;
+                        case "PlayerSecret": value.PlayerSecret = PlayFabJson.readString(in); break;
+                        case "SteamTicket": value.SteamTicket = PlayFabJson.readString(in); break;
+                        case "TitleId": value.TitleId = PlayFabJson.readString(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class LoginWithTwitchRequestAdapter extends TypeAdapter<LoginWithTwitchRequest> {
+        private final TypeAdapter<String> stringAdapter;
+        private final TypeAdapter<GetPlayerCombinedInfoRequestParams> getPlayerCombinedInfoRequestParamsAdapter;
+
+        private LoginWithTwitchRequestAdapter(Gson gson) {
+            stringAdapter = gson.getAdapter(String.class);
+            getPlayerCombinedInfoRequestParamsAdapter = gson.getAdapter(GetPlayerCombinedInfoRequestParams.class);
+        }
+
+        @Override
+        public void write(JsonWriter out, LoginWithTwitchRequest value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.name("AccessToken").value(value.AccessToken);
+            out.name("CreateAccount").value(value.CreateAccount);
+            PlayFabJson.writeMap(out.name("CustomTags"), value.CustomTags, stringAdapter);
+            out.name("EncryptedRequest").value(value.EncryptedRequest);
+            getPlayerCombinedInfoRequestParamsAdapter.write(out.name("InfoRequestParameters"), value.InfoRequestParameters);
+            out.name("PlayerSecret").value(value.PlayerSecret);
+            out.name("TitleId").value(value.TitleId);
+            out.endObject();
+        }
+
+        @Override
+        public LoginWithTwitchRequest read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            LoginWithTwitchRequest value = new LoginWithTwitchRequest();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "AccessToken": value.AccessToken = PlayFabJson.readString(in); break;
+                        case "CreateAccount": value.CreateAccount = PlayFabJson.readBoolean(in); break;
+                        case "CustomTags": value.CustomTags = PlayFabJson.readMap(in, stringAdapter); break;
+                        case "EncryptedRequest": value.EncryptedRequest = PlayFabJson.readString(in); break;
+                        case "InfoRequestParameters": value.InfoRequestParameters = getPlayerCombinedInfoRequestParamsAdapter.read(in); break;
+                        case "PlayerSecret": value.PlayerSecret = PlayFabJson.readString(in); break;
+                        case "TitleId": value.TitleId = PlayFabJson.readString(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class LoginWithXboxRequestAdapter extends TypeAdapter<LoginWithXboxRequest> {
+        private final TypeAdapter<String> stringAdapter;
+        private final TypeAdapter<GetPlayerCombinedInfoRequestParams> getPlayerCombinedInfoRequestParamsAdapter;
+
+        private LoginWithXboxRequestAdapter(Gson gson) {
+            stringAdapter = gson.getAdapter(String.class);
+            getPlayerCombinedInfoRequestParamsAdapter = gson.getAdapter(GetPlayerCombinedInfoRequestParams.class);
+        }
+
+        @Override
+        public void write(JsonWriter out, LoginWithXboxRequest value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.name("CreateAccount").value(value.CreateAccount);
+            PlayFabJson.writeMap(out.name("CustomTags"), value.CustomTags, stringAdapter);
+            out.name("EncryptedRequest").value(value.EncryptedRequest);
+            getPlayerCombinedInfoRequestParamsAdapter.write(out.name("InfoRequestParameters"), value.InfoRequestParameters);
+            out.name("PlayerSecret").value(value.PlayerSecret);
+            out.name("TitleId").value(value.TitleId);
+            out.name("XboxToken").value(value.XboxToken);
+            out.endObject();
+        }
+
+        @Override
+        public LoginWithXboxRequest read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            LoginWithXboxRequest value = new LoginWithXboxRequest();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "CreateAccount": value.CreateAccount = PlayFabJson.readBoolean(in); break;
+                        case "CustomTags": value.CustomTags = PlayFabJson.readMap(in, stringAdapter); break;
+                        case "EncryptedRequest": value.EncryptedRequest = PlayFabJson.readString(in); break;
+                        case "InfoRequestParameters": value.InfoRequestParameters = getPlayerCombinedInfoRequestParamsAdapter.read(in); break;
+                        case "PlayerSecret": value.PlayerSecret = PlayFabJson.readString(in); break;
+                        case "TitleId": value.TitleId = PlayFabJson.readString(in); break;
+                        case "XboxToken": value.XboxToken = PlayFabJson.readString(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class LogStatementAdapter extends TypeAdapter<LogStatement> {
+        private final TypeAdapter<Object> objectAdapter;
+
+        private LogStatementAdapter(Gson gson) {
+            objectAdapter = gson.getAdapter(Object.class);
+        }
+
+        @Override
+        public void write(JsonWriter out, LogStatement value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            objectAdapter.write(out.name("Data"), value.Data);
+            out.name("Level").value(value.Level);
+            out.name("Message").value(value.Message);
+            out.endObject();
+        }
+
+        @Override
+        public LogStatement read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            LogStatement value = new LogStatement();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "Data": value.Data = objectAdapter.read(in); break;
+                        case "Level": value.Level = PlayFabJson.readString(in); break;
+                        case "Message": value.Message = PlayFabJson.readString(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class MatchmakeRequestAdapter extends TypeAdapter<MatchmakeRequest> {
+        private final TypeAdapter<String> stringAdapter;
+        private final TypeAdapter<Region> regionAdapter;
+        private final TypeAdapter<CollectionFilter> collectionFilterAdapter;
+
+        private MatchmakeRequestAdapter(Gson gson) {
+            stringAdapter = gson.getAdapter(String.class);
+            regionAdapter = gson.getAdapter(Region.class);
+            collectionFilterAdapter = gson.getAdapter(CollectionFilter.class);
+        }
+
+        @Override
+        public void write(JsonWriter out, MatchmakeRequest value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.name("BuildVersion").value(value.BuildVersion);
+            out.name("CharacterId").value(value.CharacterId);
+            PlayFabJson.writeMap(out.name("CustomTags"), value.CustomTags, stringAdapter);
+            out.name("GameMode").value(value.GameMode);
+            out.name("LobbyId").value(value.LobbyId);
+            regionAdapter.write(out.name("Region"), value.Region);
+            out.name("StartNewIfNoneFound").value(value.StartNewIfNoneFound);
+            out.name("StatisticName").value(value.StatisticName);
+            collectionFilterAdapter.write(out.name("TagFilter"), value.TagFilter);
+            out.endObject();
+        }
+
+        @Override
+        public MatchmakeRequest read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            MatchmakeRequest value = new MatchmakeRequest();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "BuildVersion": value.BuildVersion = PlayFabJson.readString(in); break;
+                        case "CharacterId": value.CharacterId = PlayFabJson.readString(in); break;
+                        case "CustomTags": value.CustomTags = PlayFabJson.readMap(in, stringAdapter); break;
+                        case "GameMode": value.GameMode = PlayFabJson.readString(in); break;
+                        case "LobbyId": value.LobbyId = PlayFabJson.readString(in); break;
+                        case "Region": value.Region = regionAdapter.read(in); break;
+                        case "StartNewIfNoneFound": value.StartNewIfNoneFound = PlayFabJson.readBoolean(in); break;
+                        case "StatisticName": value.StatisticName = PlayFabJson.readString(in); break;
+                        case "TagFilter": value.TagFilter = collectionFilterAdapter.read(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class MatchmakeResultAdapter extends TypeAdapter<MatchmakeResult> {
+        private final TypeAdapter<MatchmakeStatus> matchmakeStatusAdapter;
+
+        private MatchmakeResultAdapter(Gson gson) {
+            matchmakeStatusAdapter = gson.getAdapter(MatchmakeStatus.class);
+        }
+
+        @Override
+        public void write(JsonWriter out, MatchmakeResult value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.name("Expires").value(value.Expires);
+            out.name("LobbyID").value(value.LobbyID);
+            out.name("PollWaitTimeMS").value(value.PollWaitTimeMS);
+            out.name("ServerIPV4Address").value(value.ServerIPV4Address);
+            out.name("ServerIPV6Address").value(value.ServerIPV6Address);
+            out.name("ServerPort").value(value.ServerPort);
+            out.name("ServerPublicDNSName").value(value.ServerPublicDNSName);
+            matchmakeStatusAdapter.write(out.name("Status"), value.Status);
+            out.name("Ticket").value(value.Ticket);
+            out.endObject();
+        }
+
+        @Override
+        public MatchmakeResult read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            MatchmakeResult value = new MatchmakeResult();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "Expires": value.Expires = PlayFabJson.readString(in); break;
+                        case "LobbyID": value.LobbyID = PlayFabJson.readString(in); break;
+                        case "PollWaitTimeMS": value.PollWaitTimeMS = PlayFabJson.readInteger(in); break;
+                        case "ServerIPV4Address": value.ServerIPV4Address = PlayFabJson.readString(in); break;
+                        case "ServerIPV6Address": value.ServerIPV6Address = PlayFabJson.readString(in); break;
+                        case "ServerPort": value.ServerPort = PlayFabJson.readInteger(in); break;
+                        case "ServerPublicDNSName": value.ServerPublicDNSName = PlayFabJson.readString(in); break;
+                        case "Status": value.Status = matchmakeStatusAdapter.read(in); break;
+                        case "Ticket": value.Ticket = PlayFabJson.readString(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class MembershipModelAdapter extends TypeAdapter<MembershipModel> {
+        private final TypeAdapter<Date> dateAdapter;
+        private final TypeAdapter<SubscriptionModel> subscriptionModelAdapter;
+
+        private MembershipModelAdapter(Gson gson) {
+            dateAdapter = gson.getAdapter(Date.class);
+            subscriptionModelAdapter = gson.getAdapter(SubscriptionModel.class);
+        }
+
+        @Override
+        public void write(JsonWriter out, MembershipModel value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.name("IsActive").value(value.IsActive);
+            dateAdapter.write(out.name("MembershipExpiration"), value.MembershipExpiration);
+            out.name("MembershipId").value(value.MembershipId);
+            dateAdapter.write(out.name("OverrideExpiration"), value.OverrideExpiration);
+            PlayFabJson.writeList(out.name("Subscriptions"), value.Subscriptions, subscriptionModelAdapter);
+            out.endObject();
+        }
+
+        @Override
+        public MembershipModel read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            MembershipModel value = new MembershipModel();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "IsActive": value.IsActive = PlayFabJson.readBoolean(in); break;
+                        case "MembershipExpiration": value.MembershipExpiration = dateAdapter.read(in); break;
+                        case "MembershipId": value.MembershipId = PlayFabJson.readString(in); break;
+                        case "OverrideExpiration": value.OverrideExpiration = dateAdapter.read(in); break;
+                        case "Subscriptions": value.Subscriptions = PlayFabJson.readList(in, subscriptionModelAdapter); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class MicrosoftStorePayloadAdapter extends TypeAdapter<MicrosoftStorePayload> {
+        private MicrosoftStorePayloadAdapter(Gson gson) {
+        }
+
+        @Override
+        public void write(JsonWriter out, MicrosoftStorePayload value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.name("CollectionsMsIdKey").value(value.CollectionsMsIdKey);
+            out.name("UserId").value(value.UserId);
+            out.name("XboxToken").value(value.XboxToken);
+            out.endObject();
+        }
+
+        @Override
+        public MicrosoftStorePayload read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            MicrosoftStorePayload value = new MicrosoftStorePayload();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "CollectionsMsIdKey": value.CollectionsMsIdKey = PlayFabJson.readString(in); break;
+                        case "UserId": value.UserId = PlayFabJson.readString(in); break;
+                        case "XboxToken": value.XboxToken = PlayFabJson.readString(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class ModifyUserVirtualCurrencyResultAdapter extends TypeAdapter<ModifyUserVirtualCurrencyResult> {
+        private ModifyUserVirtualCurrencyResultAdapter(Gson gson) {
+        }
+
+        @Override
+        public void write(JsonWriter out, ModifyUserVirtualCurrencyResult value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.name("Balance").value(value.Balance);
+            out.name("BalanceChange").value(value.BalanceChange);
+            out.name("PlayFabId").value(value.PlayFabId);
+            out.name("VirtualCurrency").value(value.VirtualCurrency);
+            out.endObject();
+        }
+
+        @Override
+        public ModifyUserVirtualCurrencyResult read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            ModifyUserVirtualCurrencyResult value = new ModifyUserVirtualCurrencyResult();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "Balance": value.Balance = PlayFabJson.readInteger(in); break;
+                        case "BalanceChange": value.BalanceChange = PlayFabJson.readInteger(in); break;
+                        case "PlayFabId": value.PlayFabId = PlayFabJson.readString(in); break;
+                        case "VirtualCurrency": value.VirtualCurrency = PlayFabJson.readString(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class NameIdentifierAdapter extends TypeAdapter<NameIdentifier> {
+        private NameIdentifierAdapter(Gson gson) {
+        }
+
+        @Override
+        public void write(JsonWriter out, NameIdentifier value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.name("Id").value(value.Id);
+            out.name("Name").value(value.Name);
+            out.endObject();
+        }
+
+        @Override
+        public NameIdentifier read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            NameIdentifier value = new NameIdentifier();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "Id": value.Id = PlayFabJson.readString(in); break;
+                        case "Name": value.Name = PlayFabJson.readString(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class NintendoSwitchPlayFabIdPairAdapter extends TypeAdapter<NintendoSwitchPlayFabIdPair> {
+        private NintendoSwitchPlayFabIdPairAdapter(Gson gson) {
+        }
+
+        @Override
+        public void write(JsonWriter out, NintendoSwitchPlayFabIdPair value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.name("NintendoSwitchDeviceId").value(value.NintendoSwitchDeviceId);
+            out.name("PlayFabId").value(value.PlayFabId);
+            out.endObject();
+        }
+
+        @Override
+        public NintendoSwitchPlayFabIdPair read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            NintendoSwitchPlayFabIdPair value = new NintendoSwitchPlayFabIdPair();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "NintendoSwitchDeviceId": value.NintendoSwitchDeviceId = PlayFabJson.readString(in); break;
+                        case "PlayFabId": value.PlayFabId = PlayFabJson.readString(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class OpenTradeRequestAdapter extends TypeAdapter<OpenTradeRequest> {
+        private final TypeAdapter<String> stringAdapter;
+
+        private OpenTradeRequestAdapter(Gson gson) {
+            stringAdapter = gson.getAdapter(String.class);
+        }
+
+        @Override
+        public void write(JsonWriter out, OpenTradeRequest value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            PlayFabJson.writeList(out.name("AllowedPlayerIds"), value.AllowedPlayerIds, stringAdapter);
+            PlayFabJson.writeList(out.name("OfferedInventoryInstanceIds"), value.OfferedInventoryInstanceIds, stringAdapter);
+            PlayFabJson.writeList(out.name("RequestedCatalogItemIds"), value.RequestedCatalogItemIds, stringAdapter);
+            out.endObject();
+        }
+
+        @Override
+        public OpenTradeRequest read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            OpenTradeRequest value = new OpenTradeRequest();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "AllowedPlayerIds": value.AllowedPlayerIds = PlayFabJson.readList(in, stringAdapter); break;
+                        case "OfferedInventoryInstanceIds": value.OfferedInventoryInstanceIds = PlayFabJson.readList(in, stringAdapter); break;
+                        case "RequestedCatalogItemIds": value.RequestedCatalogItemIds = PlayFabJson.readList(in, stringAdapter); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class OpenTradeResponseAdapter extends TypeAdapter<OpenTradeResponse> {
+        private final TypeAdapter<TradeInfo> tradeInfoAdapter;
+
+        private OpenTradeResponseAdapter(Gson gson) {
+            tradeInfoAdapter = gson.getAdapter(TradeInfo.class);
+        }
+
+        @Override
+        public void write(JsonWriter out, OpenTradeResponse value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            tradeInfoAdapter.write(out.name("Trade"), value.Trade);
+            out.endObject();
+        }
+
+        @Override
+        public OpenTradeResponse read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            OpenTradeResponse value = new OpenTradeResponse();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "Trade": value.Trade = tradeInfoAdapter.read(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class PayForPurchaseRequestAdapter extends TypeAdapter<PayForPurchaseRequest> {
+        private final TypeAdapter<String> stringAdapter;
+
+        private PayForPurchaseRequestAdapter(Gson gson) {
+            stringAdapter = gson.getAdapter(String.class);
+        }
+
+        @Override
+        public void write(JsonWriter out, PayForPurchaseRequest value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.name("Currency").value(value.Currency);
+            PlayFabJson.writeMap(out.name("CustomTags"), value.CustomTags, stringAdapter);
+            out.name("OrderId").value(value.OrderId);
+            out.name("ProviderName").value(value.ProviderName);
+            out.name("ProviderTransactionId").value(value.ProviderTransactionId);
+            out.endObject();
+        }
+
+        @Override
+        public PayForPurchaseRequest read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            PayForPurchaseRequest value = new PayForPurchaseRequest();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "Currency": value.Currency = PlayFabJson.readString(in); break;
+                        case "CustomTags": value.CustomTags = PlayFabJson.readMap(in, stringAdapter); break;
+                        case "OrderId": value.OrderId = PlayFabJson.readString(in); break;
+                        case "ProviderName": value.ProviderName = PlayFabJson.readString(in); break;
+                        case "ProviderTransactionId": value.ProviderTransactionId = PlayFabJson.readString(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class PayForPurchaseResultAdapter extends TypeAdapter<PayForPurchaseResult> {
+        private final TypeAdapter<TransactionStatus> transactionStatusAdapter;
+        private final TypeAdapter<Integer> integerAdapter;
+
+        private PayForPurchaseResultAdapter(Gson gson) {
+            transactionStatusAdapter = gson.getAdapter(TransactionStatus.class);
+            integerAdapter = gson.getAdapter(Integer.class);
+        }
+
+        @Override
+        public void write(JsonWriter out, PayForPurchaseResult value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.name("CreditApplied").value(value.CreditApplied);
+            out.name("OrderId").value(value.OrderId);
+            out.name("ProviderData").value(value.ProviderData);
+            out.name("ProviderToken").value(value.ProviderToken);
+            out.name("PurchaseConfirmationPageURL").value(value.PurchaseConfirmationPageURL);
+            out.name("PurchaseCurrency").value(value.PurchaseCurrency);
+            out.name("PurchasePrice").value(value.PurchasePrice);
+            transactionStatusAdapter.write(out.name("Status"), value.Status);
+            PlayFabJson.writeMap(out.name("VCAmount"), value.VCAmount, integerAdapter);
+            PlayFabJson.writeMap(out.name("VirtualCurrency"), value.VirtualCurrency, integerAdapter);
+            out.endObject();
+        }
+
+        @Override
+        public PayForPurchaseResult read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            PayForPurchaseResult value = new PayForPurchaseResult();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "CreditApplied": value.CreditApplied = PlayFabJson.readLong(in); break;
+                        case "OrderId": value.OrderId = PlayFabJson.readString(in); break;
+                        case "ProviderData": value.ProviderData = PlayFabJson.readString(in); break;
+                        case "ProviderToken": value.ProviderToken = PlayFabJson.readString(in); break;
+                        case "PurchaseConfirmationPageURL": value.PurchaseConfirmationPageURL = PlayFabJson.readString(in); break;
+                        case "PurchaseCurrency": value.PurchaseCurrency = PlayFabJson.readString(in); break;
+                        case "PurchasePrice": value.PurchasePrice = PlayFabJson.readLong(in); break;
+                        case "Status": value.Status = transactionStatusAdapter.read(in); break;
+                        case "VCAmount": value.VCAmount = PlayFabJson.readMap(in, integerAdapter); break;
+                        case "VirtualCurrency": value.VirtualCurrency = PlayFabJson.readMap(in, integerAdapter); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class PaymentOptionAdapter extends TypeAdapter<PaymentOption> {
+        private PaymentOptionAdapter(Gson gson) {
+        }
+
+        @Override
+        public void write(JsonWriter out, PaymentOption value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.name("Currency").value(value.Currency);
+            out.name("Price").value(value.Price);
+            out.name("ProviderName").value(value.ProviderName);
+            out.name("StoreCredit").value(value.StoreCredit);
+            out.endObject();
+        }
+
+        @Override
+        public PaymentOption read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            PaymentOption value = new PaymentOption();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "Currency": value.Currency = PlayFabJson.readString(in); break;
+                        case "Price": value.Price = PlayFabJson.readLong(in); break;
+                        case "ProviderName": value.ProviderName = PlayFabJson.readString(in); break;
+                        case "StoreCredit": value.StoreCredit = PlayFabJson.readLong(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class PlayerLeaderboardEntryAdapter extends TypeAdapter<PlayerLeaderboardEntry> {
+        private final TypeAdapter<PlayerProfileModel> playerProfileModelAdapter;
+
+        private PlayerLeaderboardEntryAdapter(Gson gson) {
+            playerProfileModelAdapter = gson.getAdapter(PlayerProfileModel.class);
+        }
+
+        @Override
+        public void write(JsonWriter out, PlayerLeaderboardEntry value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.name("DisplayName").value(value.DisplayName);
+            out.name("PlayFabId").value(value.PlayFabId);
+            out.name("Position").value(value.Position);
+            playerProfileModelAdapter.write(out.name("Profile"), value.Profile);
+            out.name("StatValue").value(value.StatValue);
+            out.endObject();
+        }
+
+        @Override
+        public PlayerLeaderboardEntry read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            PlayerLeaderboardEntry value = new PlayerLeaderboardEntry();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "DisplayName": value.DisplayName = PlayFabJson.readString(in); break;
+                        case "PlayFabId": value.PlayFabId = PlayFabJson.readString(in); break;
+                        case "Position": value.Position = PlayFabJson.readInteger(in); break;
+                        case "Profile": value.Profile = playerProfileModelAdapter.read(in); break;
+                        case "StatValue": value.StatValue = PlayFabJson.readInteger(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class PlayerProfileModelAdapter extends TypeAdapter<PlayerProfileModel> {
+        private final TypeAdapter<AdCampaignAttributionModel> adCampaignAttributionModelAdapter;
+        private final TypeAdapter<Date> dateAdapter;
+        private final TypeAdapter<ContactEmailInfoModel> contactEmailInfoModelAdapter;
+        private final TypeAdapter<String> stringAdapter;
+        private final TypeAdapter<LinkedPlatformAccountModel> linkedPlatformAccountModelAdapter;
+        private final TypeAdapter<LocationModel> locationModelAdapter;
+        private final TypeAdapter<MembershipModel> membershipModelAdapter;
+        private final TypeAdapter<LoginIdentityProvider> loginIdentityProviderAdapter;
+        private final TypeAdapter<PushNotificationRegistrationModel> pushNotificationRegistrationModelAdapter;
+        private final TypeAdapter<StatisticModel> statisticModelAdapter;
+        private final TypeAdapter<TagModel> tagModelAdapter;
+        private final TypeAdapter<ValueToDateModel> valueToDateModelAdapter;
+
+        private PlayerProfileModelAdapter(Gson gson) {
+            adCampaignAttributionModelAdapter = gson.getAdapter(AdCampaignAttributionModel.class);
+            dateAdapter = gson.getAdapter(Date.class);
+            contactEmailInfoModelAdapter = gson.getAdapter(ContactEmailInfoModel.class);
+            stringAdapter = gson.getAdapter(String.class);
+            linkedPlatformAccountModelAdapter = gson.getAdapter(LinkedPlatformAccountModel.class);
+            locationModelAdapter = gson.getAdapter(LocationModel.class);
+            membershipModelAdapter = gson.getAdapter(MembershipModel.class);
+            loginIdentityProviderAdapter = gson.getAdapter(LoginIdentityProvider.class);
+            pushNotificationRegistrationModelAdapter = gson.getAdapter(PushNotificationRegistrationModel.class);
+            statisticModelAdapter = gson.getAdapter(StatisticModel.class);
+            tagModelAdapter = gson.getAdapter(TagModel.class);
+            valueToDateModelAdapter = gson.getAdapter(ValueToDateModel.class);
+        }
+
+        @Override
+        public void write(JsonWriter out, PlayerProfileModel value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            PlayFabJson.writeList(out.name("AdCampaignAttributions"), value.AdCampaignAttributions, adCampaignAttributionModelAdapter);
+            out.name("AvatarUrl").value(value.AvatarUrl);
+            dateAdapter.write(out.name("BannedUntil"), value.BannedUntil);
+            PlayFabJson.writeList(out.name("ContactEmailAddresses"), value.ContactEmailAddresses, contactEmailInfoModelAdapter);
+            dateAdapter.write(out.name("Created"), value.Created);
+            out.name("DisplayName").value(value.DisplayName);
+            PlayFabJson.writeList(out.name("ExperimentVariants"), value.ExperimentVariants, stringAdapter);
+            dateAdapter.write(out.name("LastLogin"), value.LastLogin);
+            PlayFabJson.writeList(out.name("LinkedAccounts"), value.LinkedAccounts, linkedPlatformAccountModelAdapter);
+            PlayFabJson.writeList(out.name("Locations"), value.Locations, locationModelAdapter);
+            PlayFabJson.writeList(out.name("Memberships"), value.Memberships, membershipModelAdapter);
+            loginIdentityProviderAdapter.write(out.name("Origination"), value.Origination);
+            out.name("PlayerId").value(value.PlayerId);
+            out.name("PublisherId").value(value.PublisherId);
+            PlayFabJson.writeList(out.name("PushNotificationRegistrations"), value.PushNotificationRegistrations, pushNotificationRegistrationModelAdapter);
+            PlayFabJson.writeList(out.name("Statistics"), value.Statistics, statisticModelAdapter);
+            PlayFabJson.writeList(out.name("Tags"), value.Tags, tagModelAdapter);
+            out.name("TitleId").value(value.TitleId);
+            out.name("TotalValueToDateInUSD").value(value.TotalValueToDateInUSD);
+            PlayFabJson.writeList(out.name("ValuesToDate"), value.ValuesToDate, valueToDateModelAdapter);
+            out.endObject();
+        }
+
+        @Override
+        public PlayerProfileModel read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            PlayerProfileModel value = new PlayerProfileModel();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "AdCampaignAttributions": value.AdCampaignAttributions = PlayFabJson.readList(in, adCampaignAttributionModelAdapter); break;
+                        case "AvatarUrl": value.AvatarUrl = PlayFabJson.readString(in); break;
+                        case "BannedUntil": value.BannedUntil = dateAdapter.read(in); break;
+                        case "ContactEmailAddresses": value.ContactEmailAddresses = PlayFabJson.readList(in, contactEmailInfoModelAdapter); break;
+                        case "Created": value.Created = dateAdapter.read(in); break;
+                        case "DisplayName": value.DisplayName = PlayFabJson.readString(in); break;
+                        case "ExperimentVariants": value.ExperimentVariants = PlayFabJson.readList(in, stringAdapter); break;
+                        case "LastLogin": value.LastLogin = dateAdapter.read(in); break;
+                        case "LinkedAccounts": value.LinkedAccounts = PlayFabJson.readList(in, linkedPlatformAccountModelAdapter); break;
+                        case "Locations": value.Locations = PlayFabJson.readList(in, locationModelAdapter); break;
+                        case "Memberships": value.Memberships = PlayFabJson.readList(in, membershipModelAdapter); break;
+                        case "Origination": value.Origination = loginIdentityProviderAdapter.read(in); break;
+                        case "PlayerId": value.PlayerId = PlayFabJson.readString(in); break;
+                        case "PublisherId": value.PublisherId = PlayFabJson.readString(in); break;
+                        case "PushNotificationRegistrations": value.PushNotificationRegistrations = PlayFabJson.readList(in, pushNotificationRegistrationModelAdapter); break;
+                        case "Statistics": value.Statistics = PlayFabJson.readList(in, statisticModelAdapter); break;
+                        case "Tags": value.Tags = PlayFabJson.readList(in, tagModelAdapter); break;
+                        case "TitleId": value.TitleId = PlayFabJson.readString(in); break;
+                        case "TotalValueToDateInUSD": value.TotalValueToDateInUSD = PlayFabJson.readLong(in); break;
+                        case "ValuesToDate": value.ValuesToDate = PlayFabJson.readList(in, valueToDateModelAdapter); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class PlayerProfileViewConstraintsAdapter extends TypeAdapter<PlayerProfileViewConstraints> {
+        private PlayerProfileViewConstraintsAdapter(Gson gson) {
+        }
+
+        @Override
+        public void write(JsonWriter out, PlayerProfileViewConstraints value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.name("ShowAvatarUrl").value(value.ShowAvatarUrl);
+            out.name("ShowBannedUntil").value(value.ShowBannedUntil);
+            out.name("ShowCampaignAttributions").value(value.ShowCampaignAttributions);
+            out.name("ShowContactEmailAddresses").value(value.ShowContactEmailAddresses);
+            out.name("ShowCreated").value(value.ShowCreated);
+            out.name("ShowDisplayName").value(value.ShowDisplayName);
+            out.name("ShowExperimentVariants").value(value.ShowExperimentVariants);
+            out.name("ShowLastLogin").value(value.ShowLastLogin);
+            out.name("ShowLinkedAccounts").value(value.ShowLinkedAccounts);
+            out.name("ShowLocations").value(value.ShowLocations);
+            out.name("ShowMemberships").value(value.ShowMemberships);
+            out.name("ShowOrigination").value(value.ShowOrigination);
+            out.name("ShowPushNotificationRegistrations").value(value.ShowPushNotificationRegistrations);
+            out.name("ShowStatistics").value(value.ShowStatistics);
+            out.name("ShowTags").value(value.ShowTags);
+            out.name("ShowTotalValueToDateInUsd").value(value.ShowTotalValueToDateInUsd);
+            out.name("ShowValuesToDate").value(value.ShowValuesToDate);
+            out.endObject();
+        }
+
+        @Override
+        public PlayerProfileViewConstraints read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            PlayerProfileViewConstraints value = new PlayerProfileViewConstraints();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "ShowAvatarUrl": value.ShowAvatarUrl = PlayFabJson.readBoolean(in); break;
+                        case "ShowBannedUntil": value.ShowBannedUntil = PlayFabJson.readBoolean(in); break;
+                        case "ShowCampaignAttributions": value.ShowCampaignAttributions = PlayFabJson.readBoolean(in); break;
+                        case "ShowContactEmailAddresses": value.ShowContactEmailAddresses = PlayFabJson.readBoolean(in); break;
+                        case "ShowCreated": value.ShowCreated = PlayFabJson.readBoolean(in); break;
+                        case "ShowDisplayName": value.ShowDisplayName = PlayFabJson.readBoolean(in); break;
+                        case "ShowExperimentVariants": value.ShowExperimentVariants = PlayFabJson.readBoolean(in); break;
+                        case "ShowLastLogin": value.ShowLastLogin = PlayFabJson.readBoolean(in); break;
+                        case "ShowLinkedAccounts": value.ShowLinkedAccounts = PlayFabJson.readBoolean(in); break;
+                        case "ShowLocations": value.ShowLocations = PlayFabJson.readBoolean(in); break;
+                        case "ShowMemberships": value.ShowMemberships = PlayFabJson.readBoolean(in); break;
+                        case "ShowOrigination": value.ShowOrigination = PlayFabJson.readBoolean(in); break;
+                        case "ShowPushNotificationRegistrations": value.ShowPushNotificationRegistrations = PlayFabJson.readBoolean(in); break;
+                        case "ShowStatistics": value.ShowStatistics = PlayFabJson.readBoolean(in); break;
+                        case "ShowTags": value.ShowTags = PlayFabJson.readBoolean(in); break;
+                        case "ShowTotalValueToDateInUsd": value.ShowTotalValueToDateInUsd = PlayFabJson.readBoolean(in); break;
+                        case "ShowValuesToDate": value.ShowValuesToDate = PlayFabJson.readBoolean(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class PlayerStatisticVersionAdapter extends TypeAdapter<PlayerStatisticVersion> {
+        private final TypeAdapter<Date> dateAdapter;
+
+        private PlayerStatisticVersionAdapter(Gson gson) {
+            dateAdapter = gson.getAdapter(Date.class);
+        }
+
+        @Override
+        public void write(JsonWriter out, PlayerStatisticVersion value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            dateAdapter.write(out.name("ActivationTime"), value.ActivationTime);
+            dateAdapter.write(out.name("DeactivationTime"), value.DeactivationTime);
+            dateAdapter.write(out.name("ScheduledActivationTime"), value.ScheduledActivationTime);
+            dateAdapter.write(out.name("ScheduledDeactivationTime"), value.ScheduledDeactivationTime);
+            out.name("StatisticName").value(value.StatisticName);
+            out.name("Version").value(value.Version);
+            out.endObject();
+        }
+
+        @Override
+        public PlayerStatisticVersion read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            PlayerStatisticVersion value = new PlayerStatisticVersion();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "ActivationTime": value.ActivationTime = dateAdapter.read(in); break;
+                        case "DeactivationTime": value.DeactivationTime = dateAdapter.read(in); break;
+                        case "ScheduledActivationTime": value.ScheduledActivationTime = dateAdapter.read(in); break;
+                        case "ScheduledDeactivationTime": value.ScheduledDeactivationTime = dateAdapter.read(in); break;
+                        case "StatisticName": value.StatisticName = PlayFabJson.readString(in); break;
+                        case "Version": value.Version = PlayFabJson.readLong(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class PlayStation5PayloadAdapter extends TypeAdapter<PlayStation5Payload> {
+        private final TypeAdapter<String> stringAdapter;
+
+        private PlayStation5PayloadAdapter(Gson gson) {
+            stringAdapter = gson.getAdapter(String.class);
+        }
+
+        @Override
+        public void write(JsonWriter out, PlayStation5Payload value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            PlayFabJson.writeList(out.name("Ids"), value.Ids, stringAdapter);
+            out.name("ServiceLabel").value(value.ServiceLabel);
+            out.endObject();
+        }
+
+        @Override
+        public PlayStation5Payload read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            PlayStation5Payload value = new PlayStation5Payload();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "Ids": value.Ids = PlayFabJson.readList(in, stringAdapter); break;
+                        case "ServiceLabel": value.ServiceLabel = PlayFabJson.readString(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class PSNAccountPlayFabIdPairAdapter extends TypeAdapter<PSNAccountPlayFabIdPair> {
+        private PSNAccountPlayFabIdPairAdapter(Gson gson) {
+        }
+
+        @Override
+        public void write(JsonWriter out, PSNAccountPlayFabIdPair value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.name("PlayFabId").value(value.PlayFabId);
+            out.name("PSNAccountId").value(value.PSNAccountId);
+            out.endObject();
+        }
+
+        @Override
+        public PSNAccountPlayFabIdPair read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            PSNAccountPlayFabIdPair value = new PSNAccountPlayFabIdPair();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "PlayFabId": value.PlayFabId = PlayFabJson.readString(in); break;
+                        case "PSNAccountId": value.PSNAccountId = PlayFabJson.readString(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class PurchaseItemRequestAdapter extends TypeAdapter<PurchaseItemRequest> {
+        private final TypeAdapter<String> stringAdapter;
+
+        private PurchaseItemRequestAdapter(Gson gson) {
+            stringAdapter = gson.getAdapter(String.class);
+        }
+
+        @Override
+        public void write(JsonWriter out, PurchaseItemRequest value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.name("CatalogVersion").value(value.CatalogVersion);
+            out.name("CharacterId").value(value.CharacterId);
+            PlayFabJson.writeMap(out.name("CustomTags"), value.CustomTags, stringAdapter);
+            out.name("ItemId").value(value.ItemId);
+            out.name("Price").value(value.Price);
+            out.name("StoreId").value(value.StoreId);
+            out.name("VirtualCurrency").value(value.VirtualCurrency);
+            out.endObject();
+        }
+
+        @Override
+        public PurchaseItemRequest read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            PurchaseItemRequest value = new PurchaseItemRequest();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "CatalogVersion": value.CatalogVersion = PlayFabJson.readString(in); break;
+                        case "CharacterId": value.CharacterId = PlayFabJson.readString(in); break;
+                        case "CustomTags": value.CustomTags = PlayFabJson.readMap(in, stringAdapter); break;
+                        case "ItemId": value.ItemId = PlayFabJson.readString(in); break;
+                        case "Price": value.Price = PlayFabJson.readInteger(in); break;
+                        case "StoreId": value.StoreId = PlayFabJson.readString(in); break;
+                        case "VirtualCurrency": value.VirtualCurrency = PlayFabJson.readString(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class PurchaseItemResultAdapter extends TypeAdapter<PurchaseItemResult> {
+        private final TypeAdapter<ItemInstance> itemInstanceAdapter;
+
+        private PurchaseItemResultAdapter(Gson gson) {
+            itemInstanceAdapter = gson.getAdapter(ItemInstance.class);
+        }
+
+        @Override
+        public void write(JsonWriter out, PurchaseItemResult value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            PlayFabJson.writeList(out.name("Items"), value.Items, itemInstanceAdapter);
+            out.endObject();
+        }
+
+        @Override
+        public PurchaseItemResult read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            PurchaseItemResult value = new PurchaseItemResult();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "Items": value.Items = PlayFabJson.readList(in, itemInstanceAdapter); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class PurchaseReceiptFulfillmentAdapter extends TypeAdapter<PurchaseReceiptFulfillment> {
+        private final TypeAdapter<ItemInstance> itemInstanceAdapter;
+
+        private PurchaseReceiptFulfillmentAdapter(Gson gson) {
+            itemInstanceAdapter = gson.getAdapter(ItemInstance.class);
+        }
+
+        @Override
+        public void write(JsonWriter out, PurchaseReceiptFulfillment value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            PlayFabJson.writeList(out.name("FulfilledItems"), value.FulfilledItems, itemInstanceAdapter);
+            out.name("RecordedPriceSource").value(value.RecordedPriceSource);
+            out.name("RecordedTransactionCurrency").value(value.RecordedTransactionCurrency);
+            out.name("RecordedTransactionTotal").value(value.RecordedTransactionTotal);
+            out.endObject();
+        }
+
+        @Override
+        public PurchaseReceiptFulfillment read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            PurchaseReceiptFulfillment value = new PurchaseReceiptFulfillment();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "FulfilledItems": value.FulfilledItems = PlayFabJson.readList(in, itemInstanceAdapter); break;
+                        case "RecordedPriceSource": value.RecordedPriceSource = PlayFabJson.readString(in); break;
+                        case "RecordedTransactionCurrency": value.RecordedTransactionCurrency = PlayFabJson.readString(in); break;
+                        case "RecordedTransactionTotal": value.RecordedTransactionTotal = PlayFabJson.readLong(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class PushNotificationRegistrationModelAdapter extends TypeAdapter<PushNotificationRegistrationModel> {
+        private final TypeAdapter<PushNotificationPlatform> pushNotificationPlatformAdapter;
+
+        private PushNotificationRegistrationModelAdapter(Gson gson) {
+            pushNotificationPlatformAdapter = gson.getAdapter(PushNotificationPlatform.class);
+        }
+
+        @Override
+        public void write(JsonWriter out, PushNotificationRegistrationModel value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.name("NotificationEndpointARN").value(value.NotificationEndpointARN);
+            pushNotificationPlatformAdapter.write(out.name("Platform"), value.Platform);
+            out.endObject();
+        }
+
+        @Override
+        public PushNotificationRegistrationModel read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            PushNotificationRegistrationModel value = new PushNotificationRegistrationModel();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "NotificationEndpointARN": value.NotificationEndpointARN = PlayFabJson.readString(in); break;
+                        case "Platform": value.Platform = pushNotificationPlatformAdapter.read(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class RedeemCouponRequestAdapter extends TypeAdapter<RedeemCouponRequest> {
+        private final TypeAdapter<String> stringAdapter;
+
+        private RedeemCouponRequestAdapter(Gson gson) {
+            stringAdapter = gson.getAdapter(String.class);
+        }
+
+        @Override
+        public void write(JsonWriter out, RedeemCouponRequest value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.name("CatalogVersion").value(value.CatalogVersion);
+            out.name("CharacterId").value(value.CharacterId);
+            out.name("CouponCode").value(value.CouponCode);
+            PlayFabJson.writeMap(out.name("CustomTags"), value.CustomTags, stringAdapter);
+            out.endObject();
+        }
+
+        @Override
+        public RedeemCouponRequest read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            RedeemCouponRequest value = new RedeemCouponRequest();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "CatalogVersion": value.CatalogVersion = PlayFabJson.readString(in); break;
+                        case "CharacterId": value.CharacterId = PlayFabJson.readString(in); break;
+                        case "CouponCode": value.CouponCode = PlayFabJson.readString(in); break;
+                        case "CustomTags": value.CustomTags = PlayFabJson.readMap(in, stringAdapter); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class RedeemCouponResultAdapter extends TypeAdapter<RedeemCouponResult> {
+        private final TypeAdapter<ItemInstance> itemInstanceAdapter;
+
+        private RedeemCouponResultAdapter(Gson gson) {
+            itemInstanceAdapter = gson.getAdapter(ItemInstance.class);
+        }
+
+        @Override
+        public void write(JsonWriter out, RedeemCouponResult value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            PlayFabJson.writeList(out.name("GrantedItems"), value.GrantedItems, itemInstanceAdapter);
+            out.endObject();
+        }
+
+        @Override
+        public RedeemCouponResult read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            RedeemCouponResult value = new RedeemCouponResult();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "GrantedItems": value.GrantedItems = PlayFabJson.readList(in, itemInstanceAdapter); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class RefreshPSNAuthTokenRequestAdapter extends TypeAdapter<RefreshPSNAuthTokenRequest> {
+        private RefreshPSNAuthTokenRequestAdapter(Gson gson) {
+        }
+
+        @Override
+        public void write(JsonWriter out, RefreshPSNAuthTokenRequest value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.name("AuthCode").value(value.AuthCode);
+            out.name("IssuerId").value(value.IssuerId);
+            out.name("RedirectUri").value(value.RedirectUri);
+            out.endObject();
+        }
+
+        @Override
+        public RefreshPSNAuthTokenRequest read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            RefreshPSNAuthTokenRequest value = new RefreshPSNAuthTokenRequest();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "AuthCode": value.AuthCode = PlayFabJson.readString(in); break;
+                        case "IssuerId": value.IssuerId = PlayFabJson.readInteger(in); break;
+                        case "RedirectUri": value.RedirectUri = PlayFabJson.readString(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class RegionInfoAdapter extends TypeAdapter<RegionInfo> {
+        private final TypeAdapter<Region> regionAdapter;
+
+        private RegionInfoAdapter(Gson gson) {
+            regionAdapter = gson.getAdapter(Region.class);
+        }
+
+        @Override
+        public void write(JsonWriter out, RegionInfo value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.name("Available").value(value.Available);
+            out.name("Name").value(value.Name);
+            out.name("PingUrl").value(value.PingUrl);
+            regionAdapter.write(out.name("Region"), value.Region);
+            out.endObject();
+        }
+
+        @Override
+        public RegionInfo read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            RegionInfo value = new RegionInfo();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "Available": value.Available = PlayFabJson.readBoolean(in); break;
+                        case "Name": value.Name = PlayFabJson.readString(in); break;
+                        case "PingUrl": value.PingUrl = PlayFabJson.readString(in); break;
+                        case "Region": value.Region = regionAdapter.read(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class RegisterForIOSPushNotificationRequestAdapter extends TypeAdapter<RegisterForIOSPushNotificationRequest> {
+        private RegisterForIOSPushNotificationRequestAdapter(Gson gson) {
+        }
+
+        @Override
+        public void write(JsonWriter out, RegisterForIOSPushNotificationRequest value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.name("ConfirmationMessage").value(value.ConfirmationMessage);
+            out.name("DeviceToken").value(value.DeviceToken);
+            out.name("SendPushNotificationConfirmation").value(value.SendPushNotificationConfirmation);
+            out.endObject();
+        }
+
+        @Override
+        public RegisterForIOSPushNotificationRequest read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            RegisterForIOSPushNotificationRequest value = new RegisterForIOSPushNotificationRequest();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "ConfirmationMessage": value.ConfirmationMessage = PlayFabJson.readString(in); break;
+                        case "DeviceToken": value.DeviceToken = PlayFabJson.readString(in); break;
+                        case "SendPushNotificationConfirmation": value.SendPushNotificationConfirmation = PlayFabJson.readBoolean(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class RegisterForIOSPushNotificationResultAdapter extends TypeAdapter<RegisterForIOSPushNotificationResult> {
+        private RegisterForIOSPushNotificationResultAdapter(Gson gson) {
+        }
+
+        @Override
+        public void write(JsonWriter out, RegisterForIOSPushNotificationResult value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.endObject();
+        }
+
+        @Override
+        public RegisterForIOSPushNotificationResult read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            RegisterForIOSPushNotificationResult value = new RegisterForIOSPushNotificationResult();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class RegisterPlayFabUserRequestAdapter extends TypeAdapter<RegisterPlayFabUserRequest> {
+        private final TypeAdapter<String> stringAdapter;
+        private final TypeAdapter<GetPlayerCombinedInfoRequestParams> getPlayerCombinedInfoRequestParamsAdapter;
+
+        private RegisterPlayFabUserRequestAdapter(Gson gson) {
+            stringAdapter = gson.getAdapter(String.class);
+            getPlayerCombinedInfoRequestParamsAdapter = gson.getAdapter(GetPlayerCombinedInfoRequestParams.class);
+        }
+
+        @Override
+        public void write(JsonWriter out, RegisterPlayFabUserRequest value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            PlayFabJson.writeMap(out.name("CustomTags"), value.CustomTags, stringAdapter);
+            out.name("DisplayName").value(value.DisplayName);
+            out.name("Email").value(value.Email);
+            out.name("EncryptedRequest").value(value.EncryptedRequest);
+            getPlayerCombinedInfoRequestParamsAdapter.write(out.name("InfoRequestParameters"), value.InfoRequestParameters);
+            out.name("Password").value(value.Password);
+            out.name("PlayerSecret").value(value.PlayerSecret);
+            out.name("RequireBothUsernameAndEmail").value(value.RequireBothUsernameAndEmail);
+            out.name("TitleId").value(value.TitleId);
+            out.name("Username").value(value.Username);
+            out.endObject();
+        }
+
+        @Override
+        public RegisterPlayFabUserRequest read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            RegisterPlayFabUserRequest value = new RegisterPlayFabUserRequest();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "CustomTags": value.CustomTags = PlayFabJson.readMap(in, stringAdapter); break;
+                        case "DisplayName": value.DisplayName = PlayFabJson.readString(in); break;
+                        case "Email": value.Email = PlayFabJson.readString(in); break;
+                        case "EncryptedRequest": value.EncryptedRequest = PlayFabJson.readString(in); break;
+                        case "InfoRequestParameters": value.InfoRequestParameters = getPlayerCombinedInfoRequestParamsAdapter.read(in); break;
+                        case "Password": value.Password = PlayFabJson.readString(in); break;
+                        case "PlayerSecret": value.PlayerSecret = PlayFabJson.readString(in); break;
+                        case "RequireBothUsernameAndEmail": value.RequireBothUsernameAndEmail = PlayFabJson.readBoolean(in); break;
+                        case "TitleId": value.TitleId = PlayFabJson.readString(in); break;
+                        case "Username": value.Username = PlayFabJson.readString(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class RegisterPlayFabUserResultAdapter extends TypeAdapter<RegisterPlayFabUserResult> {
+        private final TypeAdapter<EntityTokenResponse> entityTokenResponseAdapter;
+        private final TypeAdapter<UserSettings> userSettingsAdapter;
+
+        private RegisterPlayFabUserResultAdapter(Gson gson) {
+            entityTokenResponseAdapter = gson.getAdapter(EntityTokenResponse.class);
+            userSettingsAdapter = gson.getAdapter(UserSettings.class);
+        }
+
+        @Override
+        public void write(JsonWriter out, RegisterPlayFabUserResult value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            entityTokenResponseAdapter.write(out.name("EntityToken"), value.EntityToken);
+            out.name("PlayFabId").value(value.PlayFabId);
+            out.name("SessionTicket").value(value.SessionTicket);
+            userSettingsAdapter.write(out.name("SettingsForUser"), value.SettingsForUser);
+            out.name("Username").value(value.Username);
+            out.endObject();
+        }
+
+        @Override
+        public RegisterPlayFabUserResult read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            RegisterPlayFabUserResult value = new RegisterPlayFabUserResult();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "EntityToken": value.EntityToken = entityTokenResponseAdapter.read(in); break;
+                        case "PlayFabId": value.PlayFabId = PlayFabJson.readString(in); break;
+                        case "SessionTicket": value.SessionTicket = PlayFabJson.readString(in); break;
+                        case "SettingsForUser": value.SettingsForUser = userSettingsAdapter.read(in); break;
+                        case "Username": value.Username = PlayFabJson.readString(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class RemoveContactEmailRequestAdapter extends TypeAdapter<RemoveContactEmailRequest> {
+        private final TypeAdapter<String> stringAdapter;
+
+        private RemoveContactEmailRequestAdapter(Gson gson) {
+            stringAdapter = gson.getAdapter(String.class);
+        }
+
+        @Override
+        public void write(JsonWriter out, RemoveContactEmailRequest value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            PlayFabJson.writeMap(out.name("CustomTags"), value.CustomTags, stringAdapter);
+            out.endObject();
+        }
+
+        @Override
+        public RemoveContactEmailRequest read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            RemoveContactEmailRequest value = new RemoveContactEmailRequest();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "CustomTags": value.CustomTags = PlayFabJson.readMap(in, stringAdapter); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class RemoveContactEmailResultAdapter extends TypeAdapter<RemoveContactEmailResult> {
+        private RemoveContactEmailResultAdapter(Gson gson) {
+        }
+
+        @Override
+        public void write(JsonWriter out, RemoveContactEmailResult value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.endObject();
+        }
+
+        @Override
+        public RemoveContactEmailResult read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            RemoveContactEmailResult value = new RemoveContactEmailResult();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class RemoveFriendRequestAdapter extends TypeAdapter<RemoveFriendRequest> {
+        private RemoveFriendRequestAdapter(Gson gson) {
+        }
+
+        @Override
+        public void write(JsonWriter out, RemoveFriendRequest value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.name("FriendPlayFabId").value(value.FriendPlayFabId);
+            out.endObject();
+        }
+
+        @Override
+        public RemoveFriendRequest read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            RemoveFriendRequest value = new RemoveFriendRequest();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "FriendPlayFabId": value.FriendPlayFabId = PlayFabJson.readString(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class RemoveFriendResultAdapter extends TypeAdapter<RemoveFriendResult> {
+        private RemoveFriendResultAdapter(Gson gson) {
+        }
+
+        @Override
+        public void write(JsonWriter out, RemoveFriendResult value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.endObject();
+        }
+
+        @Override
+        public RemoveFriendResult read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            RemoveFriendResult value = new RemoveFriendResult();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class RemoveGenericIDRequestAdapter extends TypeAdapter<RemoveGenericIDRequest> {
+        private final TypeAdapter<GenericServiceId> genericServiceIdAdapter;
+
+        private RemoveGenericIDRequestAdapter(Gson gson) {
+            genericServiceIdAdapter = gson.getAdapter(GenericServiceId.class);
+        }
+
+        @Override
+        public void write(JsonWriter out, RemoveGenericIDRequest value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            genericServiceIdAdapter.write(out.name("GenericId"), value.GenericId);
+            out.endObject();
+        }
+
+        @Override
+        public RemoveGenericIDRequest read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            RemoveGenericIDRequest value = new RemoveGenericIDRequest();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "GenericId": value.GenericId = genericServiceIdAdapter.read(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class RemoveGenericIDResultAdapter extends TypeAdapter<RemoveGenericIDResult> {
+        private RemoveGenericIDResultAdapter(Gson gson) {
+        }
+
+        @Override
+        public void write(JsonWriter out, RemoveGenericIDResult value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.endObject();
+        }
+
+        @Override
+        public RemoveGenericIDResult read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            RemoveGenericIDResult value = new RemoveGenericIDResult();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class RemoveSharedGroupMembersRequestAdapter extends TypeAdapter<RemoveSharedGroupMembersRequest> {
+        private final TypeAdapter<String> stringAdapter;
+
+        private RemoveSharedGroupMembersRequestAdapter(Gson gson) {
+            stringAdapter = gson.getAdapter(String.class);
+        }
+
+        @Override
+        public void write(JsonWriter out, RemoveSharedGroupMembersRequest value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            PlayFabJson.writeList(out.name("PlayFabIds"), value.PlayFabIds, stringAdapter);
+            out.name("SharedGroupId").value(value.SharedGroupId);
+            out.endObject();
+        }
+
+        @Override
+        public RemoveSharedGroupMembersRequest read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            RemoveSharedGroupMembersRequest value = new RemoveSharedGroupMembersRequest();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "PlayFabIds": value.PlayFabIds = PlayFabJson.readList(in, stringAdapter); break;
+                        case "SharedGroupId": value.SharedGroupId = PlayFabJson.readString(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class RemoveSharedGroupMembersResultAdapter extends TypeAdapter<RemoveSharedGroupMembersResult> {
+        private RemoveSharedGroupMembersResultAdapter(Gson gson) {
+        }
+
+        @Override
+        public void write(JsonWriter out, RemoveSharedGroupMembersResult value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.endObject();
+        }
+
+        @Override
+        public RemoveSharedGroupMembersResult read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            RemoveSharedGroupMembersResult value = new RemoveSharedGroupMembersResult();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class ReportAdActivityRequestAdapter extends TypeAdapter<ReportAdActivityRequest> {
+        private final TypeAdapter<AdActivity> adActivityAdapter;
+        private final TypeAdapter<String> stringAdapter;
+
+        private ReportAdActivityRequestAdapter(Gson gson) {
+            adActivityAdapter = gson.getAdapter(AdActivity.class);
+            stringAdapter = gson.getAdapter(String.class);
+        }
+
+        @Override
+        public void write(JsonWriter out, ReportAdActivityRequest value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            adActivityAdapter.write(out.name("Activity"), value.Activity);
+            PlayFabJson.writeMap(out.name("CustomTags"), value.CustomTags, stringAdapter);
+            out.name("PlacementId").value(value.PlacementId);
+            out.name("RewardId").value(value.RewardId);
+            out.endObject();
+        }
+
+        @Override
+        public ReportAdActivityRequest read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            ReportAdActivityRequest value = new ReportAdActivityRequest();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "Activity": value.Activity = adActivityAdapter.read(in); break;
+                        case "CustomTags": value.CustomTags = PlayFabJson.readMap(in, stringAdapter); break;
+                        case "PlacementId": value.PlacementId = PlayFabJson.readString(in); break;
+                        case "RewardId": value.RewardId = PlayFabJson.readString(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class ReportAdActivityResultAdapter extends TypeAdapter<ReportAdActivityResult> {
+        private ReportAdActivityResultAdapter(Gson gson) {
+        }
+
+        @Override
+        public void write(JsonWriter out, ReportAdActivityResult value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.endObject();
+        }
+
+        @Override
+        public ReportAdActivityResult read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            ReportAdActivityResult value = new ReportAdActivityResult();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class ReportPlayerClientRequestAdapter extends TypeAdapter<ReportPlayerClientRequest> {
+        private final TypeAdapter<String> stringAdapter;
+
+        private ReportPlayerClientRequestAdapter(Gson gson) {
+            stringAdapter = gson.getAdapter(String.class);
+        }
+
+        @Override
+        public void write(JsonWriter out, ReportPlayerClientRequest value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.name("Comment").value(value.Comment);
+            PlayFabJson.writeMap(out.name("CustomTags"), value.CustomTags, stringAdapter);
+            out.name("ReporteeId").value(value.ReporteeId);
+            out.endObject();
+        }
+
+        @Override
+        public ReportPlayerClientRequest read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            ReportPlayerClientRequest value = new ReportPlayerClientRequest();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "Comment": value.Comment = PlayFabJson.readString(in); break;
+                        case "CustomTags": value.CustomTags = PlayFabJson.readMap(in, stringAdapter); break;
+                        case "ReporteeId": value.ReporteeId = PlayFabJson.readString(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class ReportPlayerClientResultAdapter extends TypeAdapter<ReportPlayerClientResult> {
+        private ReportPlayerClientResultAdapter(Gson gson) {
+        }
+
+        @Override
+        public void write(JsonWriter out, ReportPlayerClientResult value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.name("SubmissionsRemaining").value(value.SubmissionsRemaining);
+            out.endObject();
+        }
+
+        @Override
+        public ReportPlayerClientResult read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            ReportPlayerClientResult value = new ReportPlayerClientResult();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "SubmissionsRemaining": value.SubmissionsRemaining = PlayFabJson.readInteger(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class RestoreIOSPurchasesRequestAdapter extends TypeAdapter<RestoreIOSPurchasesRequest> {
+        private final TypeAdapter<String> stringAdapter;
+
+        private RestoreIOSPurchasesRequestAdapter(Gson gson) {
+            stringAdapter = gson.getAdapter(String.class);
+        }
+
+        @Override
+        public void write(JsonWriter out, RestoreIOSPurchasesRequest value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.name("CatalogVersion").value(value.CatalogVersion);
+            PlayFabJson.writeMap(out.name("CustomTags"), value.CustomTags, stringAdapter);
+            out.name("ReceiptData").value(value.ReceiptData);
+            out.endObject();
+        }
+
+        @Override
+        public RestoreIOSPurchasesRequest read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            RestoreIOSPurchasesRequest value = new RestoreIOSPurchasesRequest();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "CatalogVersion": value.CatalogVersion = PlayFabJson.readString(in); break;
+                        case "CustomTags": value.CustomTags = PlayFabJson.readMap(in, stringAdapter); break;
+                        case "ReceiptData": value.ReceiptData = PlayFabJson.readString(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class RestoreIOSPurchasesResultAdapter extends TypeAdapter<RestoreIOSPurchasesResult> {
+        private final TypeAdapter<PurchaseReceiptFulfillment> purchaseReceiptFulfillmentAdapter;
+
+        private RestoreIOSPurchasesResultAdapter(Gson gson) {
+            purchaseReceiptFulfillmentAdapter = gson.getAdapter(PurchaseReceiptFulfillment.class);
+        }
+
+        @Override
+        public void write(JsonWriter out, RestoreIOSPurchasesResult value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            PlayFabJson.writeList(out.name("Fulfillments"), value.Fulfillments, purchaseReceiptFulfillmentAdapter);
+            out.endObject();
+        }
+
+        @Override
+        public RestoreIOSPurchasesResult read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            RestoreIOSPurchasesResult value = new RestoreIOSPurchasesResult();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "Fulfillments": value.Fulfillments = PlayFabJson.readList(in, purchaseReceiptFulfillmentAdapter); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class RewardAdActivityRequestAdapter extends TypeAdapter<RewardAdActivityRequest> {
+        private final TypeAdapter<String> stringAdapter;
+
+        private RewardAdActivityRequestAdapter(Gson gson) {
+            stringAdapter = gson.getAdapter(String.class);
+        }
+
+        @Override
+        public void write(JsonWriter out, RewardAdActivityRequest value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            PlayFabJson.writeMap(out.name("CustomTags"), value.CustomTags, stringAdapter);
+            out.name("PlacementId").value(value.PlacementId);
+            out.name("RewardId").value(value.RewardId);
+            out.endObject();
+        }
+
+        @Override
+        public RewardAdActivityRequest read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            RewardAdActivityRequest value = new RewardAdActivityRequest();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "CustomTags": value.CustomTags = PlayFabJson.readMap(in, stringAdapter); break;
+                        case "PlacementId": value.PlacementId = PlayFabJson.readString(in); break;
+                        case "RewardId": value.RewardId = PlayFabJson.readString(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class RewardAdActivityResultAdapter extends TypeAdapter<RewardAdActivityResult> {
+        private final TypeAdapter<String> stringAdapter;
+        private final TypeAdapter<Double> doubleAdapter;
+        private final TypeAdapter<AdRewardResults> adRewardResultsAdapter;
+
+        private RewardAdActivityResultAdapter(Gson gson) {
+            stringAdapter = gson.getAdapter(String.class);
+            doubleAdapter = gson.getAdapter(Double.class);
+            adRewardResultsAdapter = gson.getAdapter(AdRewardResults.class);
+        }
+
+        @Override
+        public void write(JsonWriter out, RewardAdActivityResult value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.name("AdActivityEventId").value(value.AdActivityEventId);
+            PlayFabJson.writeList(out.name("DebugResults"), value.DebugResults, stringAdapter);
+            out.name("PlacementId").value(value.PlacementId);
+            out.name("PlacementName").value(value.PlacementName);
+            out.name("PlacementViewsRemaining").value(value.PlacementViewsRemaining);
+            doubleAdapter.write(out.name("PlacementViewsResetMinutes"), value.PlacementViewsResetMinutes);
+            adRewardResultsAdapter.write(out.name("RewardResults"), value.RewardResults);
+            out.endObject();
+        }
+
+        @Override
+        public RewardAdActivityResult read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            RewardAdActivityResult value = new RewardAdActivityResult();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "AdActivityEventId": value.AdActivityEventId = PlayFabJson.readString(in); break;
+                        case "DebugResults": value.DebugResults = PlayFabJson.readList(in, stringAdapter); break;
+                        case "PlacementId": value.PlacementId = PlayFabJson.readString(in); break;
+                        case "PlacementName": value.PlacementName = PlayFabJson.readString(in); break;
+                        case "PlacementViewsRemaining": value.PlacementViewsRemaining = PlayFabJson.readInteger(in); break;
+                        case "PlacementViewsResetMinutes": value.PlacementViewsResetMinutes = doubleAdapter.read(in); break;
+                        case "RewardResults": value.RewardResults = adRewardResultsAdapter.read(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class ScriptExecutionErrorAdapter extends TypeAdapter<ScriptExecutionError> {
+        private ScriptExecutionErrorAdapter(Gson gson) {
+        }
+
+        @Override
+        public void write(JsonWriter out, ScriptExecutionError value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.name("Error").value(value.Error);
+            out.name("Message").value(value.Message);
+            out.name("StackTrace").value(value.StackTrace);
+            out.endObject();
+        }
+
+        @Override
+        public ScriptExecutionError read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            ScriptExecutionError value = new ScriptExecutionError();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "Error": value.Error = PlayFabJson.readString(in); break;
+                        case "Message": value.Message = PlayFabJson.readString(in); break;
+                        case "StackTrace": value.StackTrace = PlayFabJson.readString(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class SendAccountRecoveryEmailRequestAdapter extends TypeAdapter<SendAccountRecoveryEmailRequest> {
+        private final TypeAdapter<String> stringAdapter;
+
+        private SendAccountRecoveryEmailRequestAdapter(Gson gson) {
+            stringAdapter = gson.getAdapter(String.class);
+        }
+
+        @Override
+        public void write(JsonWriter out, SendAccountRecoveryEmailRequest value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            PlayFabJson.writeMap(out.name("CustomTags"), value.CustomTags, stringAdapter);
+            out.name("Email").value(value.Email);
+            out.name("EmailTemplateId").value(value.EmailTemplateId);
+            out.name("TitleId").value(value.TitleId);
+            out.endObject();
+        }
+
+        @Override
+        public SendAccountRecoveryEmailRequest read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            SendAccountRecoveryEmailRequest value = new SendAccountRecoveryEmailRequest();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "CustomTags": value.CustomTags = PlayFabJson.readMap(in, stringAdapter); break;
+                        case "Email": value.Email = PlayFabJson.readString(in); break;
+                        case "EmailTemplateId": value.EmailTemplateId = PlayFabJson.readString(in); break;
+                        case "TitleId": value.TitleId = PlayFabJson.readString(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class SendAccountRecoveryEmailResultAdapter extends TypeAdapter<SendAccountRecoveryEmailResult> {
+        private SendAccountRecoveryEmailResultAdapter(Gson gson) {
+        }
+
+        @Override
+        public void write(JsonWriter out, SendAccountRecoveryEmailResult value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.endObject();
+        }
+
+        @Override
+        public SendAccountRecoveryEmailResult read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            SendAccountRecoveryEmailResult value = new SendAccountRecoveryEmailResult();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class SetFriendTagsRequestAdapter extends TypeAdapter<SetFriendTagsRequest> {
+        private final TypeAdapter<String> stringAdapter;
+
+        private SetFriendTagsRequestAdapter(Gson gson) {
+            stringAdapter = gson.getAdapter(String.class);
+        }
+
+        @Override
+        public void write(JsonWriter out, SetFriendTagsRequest value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.name("FriendPlayFabId").value(value.FriendPlayFabId);
+            PlayFabJson.writeList(out.name("Tags"), value.Tags, stringAdapter);
+            out.endObject();
+        }
+
+        @Override
+        public SetFriendTagsRequest read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            SetFriendTagsRequest value = new SetFriendTagsRequest();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "FriendPlayFabId": value.FriendPlayFabId = PlayFabJson.readString(in); break;
+                        case "Tags": value.Tags = PlayFabJson.readList(in, stringAdapter); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class SetFriendTagsResultAdapter extends TypeAdapter<SetFriendTagsResult> {
+        private SetFriendTagsResultAdapter(Gson gson) {
+        }
+
+        @Override
+        public void write(JsonWriter out, SetFriendTagsResult value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.endObject();
+        }
+
+        @Override
+        public SetFriendTagsResult read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            SetFriendTagsResult value = new SetFriendTagsResult();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class SetPlayerSecretRequestAdapter extends TypeAdapter<SetPlayerSecretRequest> {
+        private SetPlayerSecretRequestAdapter(Gson gson) {
+        }
+
+        @Override
+        public void write(JsonWriter out, SetPlayerSecretRequest value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.name("EncryptedRequest").value(value.EncryptedRequest);
+            out.name("PlayerSecret").value(value.PlayerSecret);
+            out.endObject();
+        }
+
+        @Override
+        public SetPlayerSecretRequest read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            SetPlayerSecretRequest value = new SetPlayerSecretRequest();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "EncryptedRequest": value.EncryptedRequest = PlayFabJson.readString(in); break;
+                        case "PlayerSecret": value.PlayerSecret = PlayFabJson.readString(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class SetPlayerSecretResultAdapter extends TypeAdapter<SetPlayerSecretResult> {
+        private SetPlayerSecretResultAdapter(Gson gson) {
+        }
+
+        @Override
+        public void write(JsonWriter out, SetPlayerSecretResult value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.endObject();
+        }
+
+        @Override
+        public SetPlayerSecretResult read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            SetPlayerSecretResult value = new SetPlayerSecretResult();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class SharedGroupDataRecordAdapter extends TypeAdapter<SharedGroupDataRecord> {
+        private final TypeAdapter<Date> dateAdapter;
+        private final TypeAdapter<UserDataPermission> userDataPermissionAdapter;
+
+        private SharedGroupDataRecordAdapter(Gson gson) {
+            dateAdapter = gson.getAdapter(Date.class);
+            userDataPermissionAdapter = gson.getAdapter(UserDataPermission.class);
+        }
+
+        @Override
+        public void write(JsonWriter out, SharedGroupDataRecord value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            dateAdapter.write(out.name("LastUpdated"), value.LastUpdated);
+            out.name("LastUpdatedBy").value(value.LastUpdatedBy);
+            userDataPermissionAdapter.write(out.name("Permission"), value.Permission);
+            out.name("Value").value(value.Value);
+            out.endObject();
+        }
+
+        @Override
+        public SharedGroupDataRecord read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            SharedGroupDataRecord value = new SharedGroupDataRecord();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "LastUpdated": value.LastUpdated = dateAdapter.read(in); break;
+                        case "LastUpdatedBy": value.LastUpdatedBy = PlayFabJson.readString(in); break;
+                        case "Permission": value.Permission = userDataPermissionAdapter.read(in); break;
+                        case "Value": value.Value = PlayFabJson.readString(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class StartGameRequestAdapter extends TypeAdapter<StartGameRequest> {
+        private final TypeAdapter<String> stringAdapter;
+        private final TypeAdapter<Region> regionAdapter;
+
+        private StartGameRequestAdapter(Gson gson) {
+            stringAdapter = gson.getAdapter(String.class);
+            regionAdapter = gson.getAdapter(Region.class);
+        }
+
+        @Override
+        public void write(JsonWriter out, StartGameRequest value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.name("BuildVersion").value(value.BuildVersion);
+            out.name("CharacterId").value(value.CharacterId);
+            out.name("CustomCommandLineData").value(value.CustomCommandLineData);
+            PlayFabJson.writeMap(out.name("CustomTags"), value.CustomTags, stringAdapter);
+            out.name("GameMode").value(value.GameMode);
+            regionAdapter.write(out.name("Region"), value.Region);
+            out.name("StatisticName").value(value.StatisticName);
+            out.endObject();
+        }
+
+        @Override
+        public StartGameRequest read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            StartGameRequest value = new StartGameRequest();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "BuildVersion": value.BuildVersion = PlayFabJson.readString(in); break;
+                        case "CharacterId": value.CharacterId = PlayFabJson.readString(in); break;
+                        case "CustomCommandLineData": value.CustomCommandLineData = PlayFabJson.readString(in); break;
+                        case "CustomTags": value.CustomTags = PlayFabJson.readMap(in, stringAdapter); break;
+                        case "GameMode": value.GameMode = PlayFabJson.readString(in); break;
+                        case "Region": value.Region = regionAdapter.read(in); break;
+                        case "StatisticName": value.StatisticName = PlayFabJson.readString(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class StartGameResultAdapter extends TypeAdapter<StartGameResult> {
+        private StartGameResultAdapter(Gson gson) {
+        }
+
+        @Override
+        public void write(JsonWriter out, StartGameResult value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.name("Expires").value(value.Expires);
+            out.name("LobbyID").value(value.LobbyID);
+            out.name("Password").value(value.Password);
+            out.name("ServerIPV4Address").value(value.ServerIPV4Address);
+            out.name("ServerIPV6Address").value(value.ServerIPV6Address);
+            out.name("ServerPort").value(value.ServerPort);
+            out.name("ServerPublicDNSName").value(value.ServerPublicDNSName);
+            out.name("Ticket").value(value.Ticket);
+            out.endObject();
+        }
+
+        @Override
+        public StartGameResult read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            StartGameResult value = new StartGameResult();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "Expires": value.Expires = PlayFabJson.readString(in); break;
+                        case "LobbyID": value.LobbyID = PlayFabJson.readString(in); break;
+                        case "Password": value.Password = PlayFabJson.readString(in); break;
+                        case "ServerIPV4Address": value.ServerIPV4Address = PlayFabJson.readString(in); break;
+                        case "ServerIPV6Address": value.ServerIPV6Address = PlayFabJson.readString(in); break;
+                        case "ServerPort": value.ServerPort = PlayFabJson.readInteger(in); break;
+                        case "ServerPublicDNSName": value.ServerPublicDNSName = PlayFabJson.readString(in); break;
+                        case "Ticket": value.Ticket = PlayFabJson.readString(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class StartPurchaseRequestAdapter extends TypeAdapter<StartPurchaseRequest> {
+        private final TypeAdapter<String> stringAdapter;
+        private final TypeAdapter<ItemPurchaseRequest> itemPurchaseRequestAdapter;
+
+        private StartPurchaseRequestAdapter(Gson gson) {
+            stringAdapter = gson.getAdapter(String.class);
+            itemPurchaseRequestAdapter = gson.getAdapter(ItemPurchaseRequest.class);
+        }
+
+        @Override
+        public void write(JsonWriter out, StartPurchaseRequest value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.name("CatalogVersion").value(value.CatalogVersion);
+            PlayFabJson.writeMap(out.name("CustomTags"), value.CustomTags, stringAdapter);
+            PlayFabJson.writeList(out.name("Items"), value.Items, itemPurchaseRequestAdapter);
+            out.name("StoreId").value(value.StoreId);
+            out.endObject();
+        }
+
+        @Override
+        public StartPurchaseRequest read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            StartPurchaseRequest value = new StartPurchaseRequest();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "CatalogVersion": value.CatalogVersion = PlayFabJson.readString(in); break;
+                        case "CustomTags": value.CustomTags = PlayFabJson.readMap(in, stringAdapter); break;
+                        case "Items": value.Items = PlayFabJson.readList(in, itemPurchaseRequestAdapter); break;
+                        case "StoreId": value.StoreId = PlayFabJson.readString(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class StartPurchaseResultAdapter extends TypeAdapter<StartPurchaseResult> {
+        private final TypeAdapter<CartItem> cartItemAdapter;
+        private final TypeAdapter<PaymentOption> paymentOptionAdapter;
+        private final TypeAdapter<Integer> integerAdapter;
+
+        private StartPurchaseResultAdapter(Gson gson) {
+            cartItemAdapter = gson.getAdapter(CartItem.class);
+            paymentOptionAdapter = gson.getAdapter(PaymentOption.class);
+            integerAdapter = gson.getAdapter(Integer.class);
+        }
+
+        @Override
+        public void write(JsonWriter out, StartPurchaseResult value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            PlayFabJson.writeList(out.name("Contents"), value.Contents, cartItemAdapter);
+            out.name("OrderId").value(value.OrderId);
+            PlayFabJson.writeList(out.name("PaymentOptions"), value.PaymentOptions, paymentOptionAdapter);
+            PlayFabJson.writeMap(out.name("VirtualCurrencyBalances"), value.VirtualCurrencyBalances, integerAdapter);
+            out.endObject();
+        }
+
+        @Override
+        public StartPurchaseResult read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            StartPurchaseResult value = new StartPurchaseResult();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "Contents": value.Contents = PlayFabJson.readList(in, cartItemAdapter); break;
+                        case "OrderId": value.OrderId = PlayFabJson.readString(in); break;
+                        case "PaymentOptions": value.PaymentOptions = PlayFabJson.readList(in, paymentOptionAdapter); break;
+                        case "VirtualCurrencyBalances": value.VirtualCurrencyBalances = PlayFabJson.readMap(in, integerAdapter); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class StatisticModelAdapter extends TypeAdapter<StatisticModel> {
+        private StatisticModelAdapter(Gson gson) {
+        }
+
+        @Override
+        public void write(JsonWriter out, StatisticModel value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.name("Name").value(value.Name);
+            out.name("Value").value(value.Value);
+            out.name("Version").value(value.Version);
+            out.endObject();
+        }
+
+        @Override
+        public StatisticModel read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            StatisticModel value = new StatisticModel();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "Name": value.Name = PlayFabJson.readString(in); break;
+                        case "Value": value.Value = PlayFabJson.readInteger(in); break;
+                        case "Version": value.Version = PlayFabJson.readInteger(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class StatisticNameVersionAdapter extends TypeAdapter<StatisticNameVersion> {
+        private StatisticNameVersionAdapter(Gson gson) {
+        }
+
+        @Override
+        public void write(JsonWriter out, StatisticNameVersion value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.name("StatisticName").value(value.StatisticName);
+            out.name("Version").value(value.Version);
+            out.endObject();
+        }
+
+        @Override
+        public StatisticNameVersion read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            StatisticNameVersion value = new StatisticNameVersion();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "StatisticName": value.StatisticName = PlayFabJson.readString(in); break;
+                        case "Version": value.Version = PlayFabJson.readLong(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class StatisticUpdateAdapter extends TypeAdapter<StatisticUpdate> {
+        private StatisticUpdateAdapter(Gson gson) {
+        }
+
+        @Override
+        public void write(JsonWriter out, StatisticUpdate value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.name("StatisticName").value(value.StatisticName);
+            out.name("Value").value(value.Value);
+            out.name("Version").value(value.Version);
+            out.endObject();
+        }
+
+        @Override
+        public StatisticUpdate read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            StatisticUpdate value = new StatisticUpdate();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "StatisticName": value.StatisticName = PlayFabJson.readString(in); break;
+                        case "Value": value.Value = PlayFabJson.readInteger(in); break;
+                        case "Version": value.Version = PlayFabJson.readLong(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class StatisticValueAdapter extends TypeAdapter<StatisticValue> {
+        private StatisticValueAdapter(Gson gson) {
+        }
+
+        @Override
+        public void write(JsonWriter out, StatisticValue value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.name("StatisticName").value(value.StatisticName);
+            out.name("Value").value(value.Value);
+            out.name("Version").value(value.Version);
+            out.endObject();
+        }
+
+        @Override
+        public StatisticValue read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            StatisticValue value = new StatisticValue();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "StatisticName": value.StatisticName = PlayFabJson.readString(in); break;
+                        case "Value": value.Value = PlayFabJson.readInteger(in); break;
+                        case "Version": value.Version = PlayFabJson.readLong(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class SteamPlayFabIdPairAdapter extends TypeAdapter<SteamPlayFabIdPair> {
+        private SteamPlayFabIdPairAdapter(Gson gson) {
+        }
+
+        @Override
+        public void write(JsonWriter out, SteamPlayFabIdPair value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.name("PlayFabId").value(value.PlayFabId);
+            out.name("SteamStringId").value(value.SteamStringId);
+            out.endObject();
+        }
+
+        @Override
+        public SteamPlayFabIdPair read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            SteamPlayFabIdPair value = new SteamPlayFabIdPair();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "PlayFabId": value.PlayFabId = PlayFabJson.readString(in); break;
+                        case "SteamStringId": value.SteamStringId = PlayFabJson.readString(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class StoreItemAdapter extends TypeAdapter<StoreItem> {
+        private final TypeAdapter<Object> objectAdapter;
+        private final TypeAdapter<Long> longAdapter;
+
+        private StoreItemAdapter(Gson gson) {
+            objectAdapter = gson.getAdapter(Object.class);
+            longAdapter = gson.getAdapter(Long.class);
+        }
+
+        @Override
+        public void write(JsonWriter out, StoreItem value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            objectAdapter.write(out.name("CustomData"), value.CustomData);
+            out.name("DisplayPosition").value(value.DisplayPosition);
+            out.name("ItemId").value(value.ItemId);
+            PlayFabJson.writeMap(out.name("RealCurrencyPrices"), value.RealCurrencyPrices, longAdapter);
+            PlayFabJson.writeMap(out.name("VirtualCurrencyPrices"), value.VirtualCurrencyPrices, longAdapter);
+            out.endObject();
+        }
+
+        @Override
+        public StoreItem read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            StoreItem value = new StoreItem();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "CustomData": value.CustomData = objectAdapter.read(in); break;
+                        case "DisplayPosition": value.DisplayPosition = PlayFabJson.readLong(in); break;
+                        case "ItemId": value.ItemId = PlayFabJson.readString(in); break;
+                        case "RealCurrencyPrices": value.RealCurrencyPrices = PlayFabJson.readMap(in, longAdapter); break;
+                        case "VirtualCurrencyPrices": value.VirtualCurrencyPrices = PlayFabJson.readMap(in, longAdapter); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class StoreMarketingModelAdapter extends TypeAdapter<StoreMarketingModel> {
+        private final TypeAdapter<Object> objectAdapter;
+
+        private StoreMarketingModelAdapter(Gson gson) {
+            objectAdapter = gson.getAdapter(Object.class);
+        }
+
+        @Override
+        public void write(JsonWriter out, StoreMarketingModel value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.name("Description").value(value.Description);
+            out.name("DisplayName").value(value.DisplayName);
+            objectAdapter.write(out.name("Metadata"), value.Metadata);
+            out.endObject();
+        }
+
+        @Override
+        public StoreMarketingModel read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            StoreMarketingModel value = new StoreMarketingModel();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "Description": value.Description = PlayFabJson.readString(in); break;
+                        case "DisplayName": value.DisplayName = PlayFabJson.readString(in); break;
+                        case "Metadata": value.Metadata = objectAdapter.read(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class SubscriptionModelAdapter extends TypeAdapter<SubscriptionModel> {
+        private final TypeAdapter<Date> dateAdapter;
+        private final TypeAdapter<SubscriptionProviderStatus> subscriptionProviderStatusAdapter;
+
+        private SubscriptionModelAdapter(Gson gson) {
+            dateAdapter = gson.getAdapter(Date.class);
+            subscriptionProviderStatusAdapter = gson.getAdapter(SubscriptionProviderStatus.class);
+        }
+
+        @Override
+        public void write(JsonWriter out, SubscriptionModel value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            dateAdapter.write(out.name("Expiration"), value.Expiration);
+            dateAdapter.write(out.name("InitialSubscriptionTime"), value.InitialSubscriptionTime);
+            out.name("IsActive").value(value.IsActive);
+            subscriptionProviderStatusAdapter.write(out.name("Status"), value.Status);
+            out.name("SubscriptionId").value(value.SubscriptionId);
+            out.name("SubscriptionItemId").value(value.SubscriptionItemId);
+            out.name("SubscriptionProvider").value(value.SubscriptionProvider);
+            out.endObject();
+        }
+
+        @Override
+        public SubscriptionModel read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            SubscriptionModel value = new SubscriptionModel();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "Expiration": value.Expiration = dateAdapter.read(in); break;
+                        case "InitialSubscriptionTime": value.InitialSubscriptionTime = dateAdapter.read(in); break;
+                        case "IsActive": value.IsActive = PlayFabJson.readBoolean(in); break;
+                        case "Status": value.Status = subscriptionProviderStatusAdapter.read(in); break;
+                        case "SubscriptionId": value.SubscriptionId = PlayFabJson.readString(in); break;
+                        case "SubscriptionItemId": value.SubscriptionItemId = PlayFabJson.readString(in); break;
+                        case "SubscriptionProvider": value.SubscriptionProvider = PlayFabJson.readString(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class SubtractUserVirtualCurrencyRequestAdapter extends TypeAdapter<SubtractUserVirtualCurrencyRequest> {
+        private final TypeAdapter<String> stringAdapter;
+
+        private SubtractUserVirtualCurrencyRequestAdapter(Gson gson) {
+            stringAdapter = gson.getAdapter(String.class);
+        }
+
+        @Override
+        public void write(JsonWriter out, SubtractUserVirtualCurrencyRequest value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.name("Amount").value(value.Amount);
+            PlayFabJson.writeMap(out.name("CustomTags"), value.CustomTags, stringAdapter);
+            out.name("VirtualCurrency").value(value.VirtualCurrency);
+            out.endObject();
+        }
+
+        @Override
+        public SubtractUserVirtualCurrencyRequest read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            SubtractUserVirtualCurrencyRequest value = new SubtractUserVirtualCurrencyRequest();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "Amount": value.Amount = PlayFabJson.readInteger(in); break;
+                        case "CustomTags": value.CustomTags = PlayFabJson.readMap(in, stringAdapter); break;
+                        case "VirtualCurrency": value.VirtualCurrency = PlayFabJson.readString(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class TagModelAdapter extends TypeAdapter<TagModel> {
+        private TagModelAdapter(Gson gson) {
+        }
+
+        @Override
+        public void write(JsonWriter out, TagModel value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.name("TagValue").value(value.TagValue);
+            out.endObject();
+        }
+
+        @Override
+        public TagModel read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            TagModel value = new TagModel();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "TagValue": value.TagValue = PlayFabJson.readString(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class TitleNewsItemAdapter extends TypeAdapter<TitleNewsItem> {
+        private final TypeAdapter<Date> dateAdapter;
+
+        private TitleNewsItemAdapter(Gson gson) {
+            dateAdapter = gson.getAdapter(Date.class);
+        }
+
+        @Override
+        public void write(JsonWriter out, TitleNewsItem value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.name("Body").value(value.Body);
+            out.name("NewsId").value(value.NewsId);
+            dateAdapter.write(out.name("Timestamp"), value.Timestamp);
+            out.name("Title").value(value.Title);
+            out.endObject();
+        }
+
+        @Override
+        public TitleNewsItem read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            TitleNewsItem value = new TitleNewsItem();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "Body": value.Body = PlayFabJson.readString(in); break;
+                        case "NewsId": value.NewsId = PlayFabJson.readString(in); break;
+                        case "Timestamp": value.Timestamp = dateAdapter.read(in); break;
+                        case "Title": value.Title = PlayFabJson.readString(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class TradeInfoAdapter extends TypeAdapter<TradeInfo> {
+        private final TypeAdapter<String> stringAdapter;
+        private final TypeAdapter<Date> dateAdapter;
+        private final TypeAdapter<TradeStatus> tradeStatusAdapter;
+
+        private TradeInfoAdapter(Gson gson) {
+            stringAdapter = gson.getAdapter(String.class);
+            dateAdapter = gson.getAdapter(Date.class);
+            tradeStatusAdapter = gson.getAdapter(TradeStatus.class);
+        }
+
+        @Override
+        public void write(JsonWriter out, TradeInfo value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            PlayFabJson.writeList(out.name("AcceptedInventoryInstanceIds"), value.AcceptedInventoryInstanceIds, stringAdapter);
+            out.name("AcceptedPlayerId").value(value.AcceptedPlayerId);
+            PlayFabJson.writeList(out.name("AllowedPlayerIds"), value.AllowedPlayerIds, stringAdapter);
+            dateAdapter.write(out.name("CancelledAt"), value.CancelledAt);
+            dateAdapter.write(out.name("FilledAt"), value.FilledAt);
+            dateAdapter.write(out.name("InvalidatedAt"), value.InvalidatedAt);
+            PlayFabJson.writeList(out.name("OfferedCatalogItemIds"), value.OfferedCatalogItemIds, stringAdapter);
+            PlayFabJson.writeList(out.name("OfferedInventoryInstanceIds"), value.OfferedInventoryInstanceIds, stringAdapter);
+            out.name("OfferingPlayerId").value(value.OfferingPlayerId);
+            dateAdapter.write(out.name("OpenedAt"), value.OpenedAt);
+            PlayFabJson.writeList(out.name("RequestedCatalogItemIds"), value.RequestedCatalogItemIds, stringAdapter);
+            tradeStatusAdapter.write(out.name("Status"), value.Status);
+            out.name("TradeId").value(value.TradeId);
+            out.endObject();
+        }
+
+        @Override
+        public TradeInfo read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            TradeInfo value = new TradeInfo();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "AcceptedInventoryInstanceIds": value.AcceptedInventoryInstanceIds = PlayFabJson.readList(in, stringAdapter); break;
+                        case "AcceptedPlayerId": value.AcceptedPlayerId = PlayFabJson.readString(in); break;
+                        case "AllowedPlayerIds": value.AllowedPlayerIds = PlayFabJson.readList(in, stringAdapter); break;
+                        case "CancelledAt": value.CancelledAt = dateAdapter.read(in); break;
+                        case "FilledAt": value.FilledAt = dateAdapter.read(in); break;
+                        case "InvalidatedAt": value.InvalidatedAt = dateAdapter.read(in); break;
+                        case "OfferedCatalogItemIds": value.OfferedCatalogItemIds = PlayFabJson.readList(in, stringAdapter); break;
+                        case "OfferedInventoryInstanceIds": value.OfferedInventoryInstanceIds = PlayFabJson.readList(in, stringAdapter); break;
+                        case "OfferingPlayerId": value.OfferingPlayerId = PlayFabJson.readString(in); break;
+                        case "OpenedAt": value.OpenedAt = dateAdapter.read(in); break;
+                        case "RequestedCatalogItemIds": value.RequestedCatalogItemIds = PlayFabJson.readList(in, stringAdapter); break;
+                        case "Status": value.Status = tradeStatusAdapter.read(in); break;
+                        case "TradeId": value.TradeId = PlayFabJson.readString(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class TreatmentAssignmentAdapter extends TypeAdapter<TreatmentAssignment> {
+        private final TypeAdapter<Variable> variableAdapter;
+        private final TypeAdapter<String> stringAdapter;
+
+        private TreatmentAssignmentAdapter(Gson gson) {
+            variableAdapter = gson.getAdapter(Variable.class);
+            stringAdapter = gson.getAdapter(String.class);
+        }
+
+        @Override
+        public void write(JsonWriter out, TreatmentAssignment value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            PlayFabJson.writeList(out.name("Variables"), value.Variables, variableAdapter);
+            PlayFabJson.writeList(out.name("Variants"), value.Variants, stringAdapter);
+            out.endObject();
+        }
+
+        @Override
+        public TreatmentAssignment read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            TreatmentAssignment value = new TreatmentAssignment();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "Variables": value.Variables = PlayFabJson.readList(in, variableAdapter); break;
+                        case "Variants": value.Variants = PlayFabJson.readList(in, stringAdapter); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class TwitchPlayFabIdPairAdapter extends TypeAdapter<TwitchPlayFabIdPair> {
+        private TwitchPlayFabIdPairAdapter(Gson gson) {
+        }
+
+        @Override
+        public void write(JsonWriter out, TwitchPlayFabIdPair value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.name("PlayFabId").value(value.PlayFabId);
+            out.name("TwitchId").value(value.TwitchId);
+            out.endObject();
+        }
+
+        @Override
+        public TwitchPlayFabIdPair read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            TwitchPlayFabIdPair value = new TwitchPlayFabIdPair();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "PlayFabId": value.PlayFabId = PlayFabJson.readString(in); break;
+                        case "TwitchId": value.TwitchId = PlayFabJson.readString(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class UnlinkAndroidDeviceIDRequestAdapter extends TypeAdapter<UnlinkAndroidDeviceIDRequest> {
+        private final TypeAdapter<String> stringAdapter;
+
+        private UnlinkAndroidDeviceIDRequestAdapter(Gson gson) {
+            stringAdapter = gson.getAdapter(String.class);
+        }
+
+        @Override
+        public void write(JsonWriter out, UnlinkAndroidDeviceIDRequest value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.name("AndroidDeviceId").value(value.AndroidDeviceId);
+            PlayFabJson.writeMap(out.name("CustomTags"), value.CustomTags, stringAdapter);
+            out.endObject();
+        }
+
+        @Override
+        public UnlinkAndroidDeviceIDRequest read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            UnlinkAndroidDeviceIDRequest value = new UnlinkAndroidDeviceIDRequest();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "AndroidDeviceId": value.AndroidDeviceId = PlayFabJson.readString(in); break;
+                        case "CustomTags": value.CustomTags = PlayFabJson.readMap(in, stringAdapter); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class UnlinkAndroidDeviceIDResultAdapter extends TypeAdapter<UnlinkAndroidDeviceIDResult> {
+        private UnlinkAndroidDeviceIDResultAdapter(Gson gson) {
+        }
+
+        @Override
+        public void write(JsonWriter out, UnlinkAndroidDeviceIDResult value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.endObject();
+        }
+
+        @Override
+        public UnlinkAndroidDeviceIDResult read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            UnlinkAndroidDeviceIDResult value = new UnlinkAndroidDeviceIDResult();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class UnlinkAppleRequestAdapter extends TypeAdapter<UnlinkAppleRequest> {
+        private final TypeAdapter<String> stringAdapter;
+
+        private UnlinkAppleRequestAdapter(Gson gson) {
+            stringAdapter = gson.getAdapter(String.class);
+        }
+
+        @Override
+        public void write(JsonWriter out, UnlinkAppleRequest value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            PlayFabJson.writeMap(out.name("CustomTags"), value.CustomTags, stringAdapter);
+            out.endObject();
+        }
+
+        @Override
+        public UnlinkAppleRequest read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            UnlinkAppleRequest value = new UnlinkAppleRequest();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "CustomTags": value.CustomTags = PlayFabJson.readMap(in, stringAdapter); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class UnlinkCustomIDRequestAdapter extends TypeAdapter<UnlinkCustomIDRequest> {
+        private final TypeAdapter<String> stringAdapter;
+
+        private UnlinkCustomIDRequestAdapter(Gson gson) {
+            stringAdapter = gson.getAdapter(String.class);
+        }
+
+        @Override
+        public void write(JsonWriter out, UnlinkCustomIDRequest value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.name("CustomId").value(value.CustomId);
+            PlayFabJson.writeMap(out.name("CustomTags"), value.CustomTags, stringAdapter);
+            out.endObject();
+        }
+
+        @Override
+        public UnlinkCustomIDRequest read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            UnlinkCustomIDRequest value = new UnlinkCustomIDRequest();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "CustomId": value.CustomId = PlayFabJson.readString(in); break;
+                        case "CustomTags": value.CustomTags = PlayFabJson.readMap(in, stringAdapter); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class UnlinkCustomIDResultAdapter extends TypeAdapter<UnlinkCustomIDResult> {
+        private UnlinkCustomIDResultAdapter(Gson gson) {
+        }
+
+        @Override
+        public void write(JsonWriter out, UnlinkCustomIDResult value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.endObject();
+        }
+
+        @Override
+        public UnlinkCustomIDResult read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            UnlinkCustomIDResult value = new UnlinkCustomIDResult();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class UnlinkFacebookAccountRequestAdapter extends TypeAdapter<UnlinkFacebookAccountRequest> {
+        private final TypeAdapter<String> stringAdapter;
+
+        private UnlinkFacebookAccountRequestAdapter(Gson gson) {
+            stringAdapter = gson.getAdapter(String.class);
+        }
+
+        @Override
+        public void write(JsonWriter out, UnlinkFacebookAccountRequest value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            PlayFabJson.writeMap(out.name("CustomTags"), value.CustomTags, stringAdapter);
+            out.endObject();
+        }
+
+        @Override
+        public UnlinkFacebookAccountRequest read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            UnlinkFacebookAccountRequest value = new UnlinkFacebookAccountRequest();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "CustomTags": value.CustomTags = PlayFabJson.readMap(in, stringAdapter); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class UnlinkFacebookAccountResultAdapter extends TypeAdapter<UnlinkFacebookAccountResult> {
+        private UnlinkFacebookAccountResultAdapter(Gson gson) {
+        }
+
+        @Override
+        public void write(JsonWriter out, UnlinkFacebookAccountResult value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.endObject();
+        }
+
+        @Override
+        public UnlinkFacebookAccountResult read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            UnlinkFacebookAccountResult value = new UnlinkFacebookAccountResult();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class UnlinkFacebookInstantGamesIdRequestAdapter extends TypeAdapter<UnlinkFacebookInstantGamesIdRequest> {
+        private final TypeAdapter<String> stringAdapter;
+
+        private UnlinkFacebookInstantGamesIdRequestAdapter(Gson gson) {
+            stringAdapter = gson.getAdapter(String.class);
+        }
+
+        @Override
+        public void write(JsonWriter out, UnlinkFacebookInstantGamesIdRequest value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            PlayFabJson.writeMap(out.name("CustomTags"), value.CustomTags, stringAdapter);
+            out.name("FacebookInstantGamesId").value(value.FacebookInstantGamesId);
+            out.endObject();
+        }
+
+        @Override
+        public UnlinkFacebookInstantGamesIdRequest read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            UnlinkFacebookInstantGamesIdRequest value = new UnlinkFacebookInstantGamesIdRequest();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "CustomTags": value.CustomTags = PlayFabJson.readMap(in, stringAdapter); break;
+                        case "FacebookInstantGamesId": value.FacebookInstantGamesId = PlayFabJson.readString(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class UnlinkFacebookInstantGamesIdResultAdapter extends TypeAdapter<UnlinkFacebookInstantGamesIdResult> {
+        private UnlinkFacebookInstantGamesIdResultAdapter(Gson gson) {
+        }
+
+        @Override
+        public void write(JsonWriter out, UnlinkFacebookInstantGamesIdResult value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.endObject();
+        }
+
+        @Override
+        public UnlinkFacebookInstantGamesIdResult read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            UnlinkFacebookInstantGamesIdResult value = new UnlinkFacebookInstantGamesIdResult();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class UnlinkGameCenterAccountRequestAdapter extends TypeAdapter<UnlinkGameCenterAccountRequest> {
+        private final TypeAdapter<String> stringAdapter;
+
+        private UnlinkGameCenterAccountRequestAdapter(Gson gson) {
+            stringAdapter = gson.getAdapter(String.class);
+        }
+
+        @Override
+        public void write(JsonWriter out, UnlinkGameCenterAccountRequest value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            PlayFabJson.writeMap(out.name("CustomTags"), value.CustomTags, stringAdapter);
+            out.endObject();
+        }
+
+        @Override
+        public UnlinkGameCenterAccountRequest read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            UnlinkGameCenterAccountRequest value = new UnlinkGameCenterAccountRequest();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "CustomTags": value.CustomTags = PlayFabJson.readMap(in, stringAdapter); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class UnlinkGameCenterAccountResultAdapter extends TypeAdapter<UnlinkGameCenterAccountResult> {
+        private UnlinkGameCenterAccountResultAdapter(Gson gson) {
+        }
+
+        @Override
+        public void write(JsonWriter out, UnlinkGameCenterAccountResult value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.endObject();
+        }
+
+        @Override
+        public UnlinkGameCenterAccountResult read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            UnlinkGameCenterAccountResult value = new UnlinkGameCenterAccountResult();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class UnlinkGoogleAccountRequestAdapter extends TypeAdapter<UnlinkGoogleAccountRequest> {
+        private final TypeAdapter<String> stringAdapter;
+
+        private UnlinkGoogleAccountRequestAdapter(Gson gson) {
+            stringAdapter = gson.getAdapter(String.class);
+        }
+
+        @Override
+        public void write(JsonWriter out, UnlinkGoogleAccountRequest value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            PlayFabJson.writeMap(out.name("CustomTags"), value.CustomTags, stringAdapter);
+            out.endObject();
+        }
+
+        @Override
+        public UnlinkGoogleAccountRequest read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            UnlinkGoogleAccountRequest value = new UnlinkGoogleAccountRequest();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "CustomTags": value.CustomTags = PlayFabJson.readMap(in, stringAdapter); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class UnlinkGoogleAccountResultAdapter extends TypeAdapter<UnlinkGoogleAccountResult> {
+        private UnlinkGoogleAccountResultAdapter(Gson gson) {
+        }
+
+        @Override
+        public void write(JsonWriter out, UnlinkGoogleAccountResult value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.endObject();
+        }
+
+        @Override
+        public UnlinkGoogleAccountResult read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            UnlinkGoogleAccountResult value = new UnlinkGoogleAccountResult();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class UnlinkIOSDeviceIDRequestAdapter extends TypeAdapter<UnlinkIOSDeviceIDRequest> {
+        private final TypeAdapter<String> stringAdapter;
+
+        private UnlinkIOSDeviceIDRequestAdapter(Gson gson) {
+            stringAdapter = gson.getAdapter(String.class);
+        }
+
+        @Override
+        public void write(JsonWriter out, UnlinkIOSDeviceIDRequest value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            PlayFabJson.writeMap(out.name("CustomTags"), value.CustomTags, stringAdapter);
+            out.name("DeviceId").value(value.DeviceId);
+            out.endObject();
+        }
+
+        @Override
+        public UnlinkIOSDeviceIDRequest read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            UnlinkIOSDeviceIDRequest value = new UnlinkIOSDeviceIDRequest();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "CustomTags": value.CustomTags = PlayFabJson.readMap(in, stringAdapter); break;
+                        case "DeviceId": value.DeviceId = PlayFabJson.readString(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class UnlinkIOSDeviceIDResultAdapter extends TypeAdapter<UnlinkIOSDeviceIDResult> {
+        private UnlinkIOSDeviceIDResultAdapter(Gson gson) {
+        }
+
+        @Override
+        public void write(JsonWriter out, UnlinkIOSDeviceIDResult value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.endObject();
+        }
+
+        @Override
+        public UnlinkIOSDeviceIDResult read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            UnlinkIOSDeviceIDResult value = new UnlinkIOSDeviceIDResult();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class UnlinkKongregateAccountRequestAdapter extends TypeAdapter<UnlinkKongregateAccountRequest> {
+        private final TypeAdapter<String> stringAdapter;
+
+        private UnlinkKongregateAccountRequestAdapter(Gson gson) {
+            stringAdapter = gson.getAdapter(String.class);
+        }
+
+        @Override
+        public void write(JsonWriter out, UnlinkKongregateAccountRequest value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            PlayFabJson.writeMap(out.name("CustomTags"), value.CustomTags, stringAdapter);
+            out.endObject();
+        }
+
+        @Override
+        public UnlinkKongregateAccountRequest read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            UnlinkKongregateAccountRequest value = new UnlinkKongregateAccountRequest();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "CustomTags": value.CustomTags = PlayFabJson.readMap(in, stringAdapter); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class UnlinkKongregateAccountResultAdapter extends TypeAdapter<UnlinkKongregateAccountResult> {
+        private UnlinkKongregateAccountResultAdapter(Gson gson) {
+        }
+
+        @Override
+        public void write(JsonWriter out, UnlinkKongregateAccountResult value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.endObject();
+        }
+
+        @Override
+        public UnlinkKongregateAccountResult read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            UnlinkKongregateAccountResult value = new UnlinkKongregateAccountResult();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class UnlinkNintendoServiceAccountRequestAdapter extends TypeAdapter<UnlinkNintendoServiceAccountRequest> {
+        private final TypeAdapter<String> stringAdapter;
+
+        private UnlinkNintendoServiceAccountRequestAdapter(Gson gson) {
+            stringAdapter = gson.getAdapter(String.class);
+        }
+
+        @Override
+        public void write(JsonWriter out, UnlinkNintendoServiceAccountRequest value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            PlayFabJson.writeMap(out.name("CustomTags"), value.CustomTags, stringAdapter);
+            out.endObject();
+        }
+
+        @Override
+        public UnlinkNintendoServiceAccountRequest read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            UnlinkNintendoServiceAccountRequest value = new UnlinkNintendoServiceAccountRequest();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "CustomTags": value.CustomTags = PlayFabJson.readMap(in, stringAdapter); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class UnlinkNintendoSwitchDeviceIdRequestAdapter extends TypeAdapter<UnlinkNintendoSwitchDeviceIdRequest> {
+        private final TypeAdapter<String> stringAdapter;
+
+        private UnlinkNintendoSwitchDeviceIdRequestAdapter(Gson gson) {
+            stringAdapter = gson.getAdapter(String.class);
+        }
+
+        @Override
+        public void write(JsonWriter out, UnlinkNintendoSwitchDeviceIdRequest value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            PlayFabJson.writeMap(out.name("CustomTags"), value.CustomTags, stringAdapter);
+            out.name("NintendoSwitchDeviceId").value(value.NintendoSwitchDeviceId);
+            out.endObject();
+        }
+
+        @Override
+        public UnlinkNintendoSwitchDeviceIdRequest read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            UnlinkNintendoSwitchDeviceIdRequest value = new UnlinkNintendoSwitchDeviceIdRequest();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "CustomTags": value.CustomTags = PlayFabJson.readMap(in, stringAdapter); break;
+                        case "NintendoSwitchDeviceId": value.NintendoSwitchDeviceId = PlayFabJson.readString(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class UnlinkNintendoSwitchDeviceIdResultAdapter extends TypeAdapter<UnlinkNintendoSwitchDeviceIdResult> {
+        private UnlinkNintendoSwitchDeviceIdResultAdapter(Gson gson) {
+        }
+
+        @Override
+        public void write(JsonWriter out, UnlinkNintendoSwitchDeviceIdResult value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.endObject();
+        }
+
+        @Override
+        public UnlinkNintendoSwitchDeviceIdResult read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            UnlinkNintendoSwitchDeviceIdResult value = new UnlinkNintendoSwitchDeviceIdResult();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class UnlinkOpenIdConnectRequestAdapter extends TypeAdapter<UnlinkOpenIdConnectRequest> {
+        private final TypeAdapter<String> stringAdapter;
+
+        private UnlinkOpenIdConnectRequestAdapter(Gson gson) {
+            stringAdapter = gson.getAdapter(String.class);
+        }
+
+        @Override
+        public void write(JsonWriter out, UnlinkOpenIdConnectRequest value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.name("ConnectionId").value(value.ConnectionId);
+            PlayFabJson.writeMap(out.name("CustomTags"), value.CustomTags, stringAdapter);
+            out.endObject();
+        }
+
+        @Override
+        public UnlinkOpenIdConnectRequest read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            UnlinkOpenIdConnectRequest value = new UnlinkOpenIdConnectRequest();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "ConnectionId": value.ConnectionId = PlayFabJson.readString(in); break;
+                        case "CustomTags": value.CustomTags = PlayFabJson.readMap(in, stringAdapter); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class UnlinkPSNAccountRequestAdapter extends TypeAdapter<UnlinkPSNAccountRequest> {
+        private final TypeAdapter<String> stringAdapter;
+
+        private UnlinkPSNAccountRequestAdapter(Gson gson) {
+            stringAdapter = gson.getAdapter(String.class);
+        }
+
+        @Override
+        public void write(JsonWriter out, UnlinkPSNAccountRequest value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            PlayFabJson.writeMap(out.name("CustomTags"), value.CustomTags, stringAdapter);
+            out.endObject();
+        }
+
+        @Override
+        public UnlinkPSNAccountRequest read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            UnlinkPSNAccountRequest value = new UnlinkPSNAccountRequest();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "CustomTags": value.CustomTags = PlayFabJson.readMap(in, stringAdapter); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class UnlinkPSNAccountResultAdapter extends TypeAdapter<UnlinkPSNAccountResult> {
+        private UnlinkPSNAccountResultAdapter(Gson gson) {
+        }
+
+        @Override
+        public void write(JsonWriter out, UnlinkPSNAccountResult value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.endObject();
+        }
+
+        @Override
+        public UnlinkPSNAccountResult read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            UnlinkPSNAccountResult value = new UnlinkPSNAccountResult();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class UnlinkSteamAccountRequestAdapter extends TypeAdapter<UnlinkSteamAccountRequest> {
+        private final TypeAdapter<String> stringAdapter;
+
+        private UnlinkSteamAccountRequestAdapter(Gson gson) {
+            stringAdapter = gson.getAdapter(String.class);
+        }
+
+        @Override
+        public void write(JsonWriter out, UnlinkSteamAccountRequest value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            PlayFabJson.writeMap(out.name("CustomTags"), value.CustomTags, stringAdapter);
+            out.endObject();
+        }
+
+        @Override
+        public UnlinkSteamAccountRequest read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            UnlinkSteamAccountRequest value = new UnlinkSteamAccountRequest();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "CustomTags": value.CustomTags = PlayFabJson.readMap(in, stringAdapter); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class UnlinkSteamAccountResultAdapter extends TypeAdapter<UnlinkSteamAccountResult> {
+        private UnlinkSteamAccountResultAdapter(Gson gson) {
+        }
+
+        @Override
+        public void write(JsonWriter out, UnlinkSteamAccountResult value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.endObject();
+        }
+
+        @Override
+        public UnlinkSteamAccountResult read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            UnlinkSteamAccountResult value = new UnlinkSteamAccountResult();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class UnlinkTwitchAccountRequestAdapter extends TypeAdapter<UnlinkTwitchAccountRequest> {
+        private final TypeAdapter<String> stringAdapter;
+
+        private UnlinkTwitchAccountRequestAdapter(Gson gson) {
+            stringAdapter = gson.getAdapter(String.class);
+        }
+
+        @Override
+        public void write(JsonWriter out, UnlinkTwitchAccountRequest value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.name("AccessToken").value(value.AccessToken);
+            PlayFabJson.writeMap(out.name("CustomTags"), value.CustomTags, stringAdapter);
+            out.endObject();
+        }
+
+        @Override
+        public UnlinkTwitchAccountRequest read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            UnlinkTwitchAccountRequest value = new UnlinkTwitchAccountRequest();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "AccessToken": value.AccessToken = PlayFabJson.readString(in); break;
+                        case "CustomTags": value.CustomTags = PlayFabJson.readMap(in, stringAdapter); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class UnlinkTwitchAccountResultAdapter extends TypeAdapter<UnlinkTwitchAccountResult> {
+        private UnlinkTwitchAccountResultAdapter(Gson gson) {
+        }
+
+        @Override
+        public void write(JsonWriter out, UnlinkTwitchAccountResult value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.endObject();
+        }
+
+        @Override
+        public UnlinkTwitchAccountResult read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            UnlinkTwitchAccountResult value = new UnlinkTwitchAccountResult();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class UnlinkXboxAccountRequestAdapter extends TypeAdapter<UnlinkXboxAccountRequest> {
+        private final TypeAdapter<String> stringAdapter;
+
+        private UnlinkXboxAccountRequestAdapter(Gson gson) {
+            stringAdapter = gson.getAdapter(String.class);
+        }
+
+        @Override
+        public void write(JsonWriter out, UnlinkXboxAccountRequest value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            PlayFabJson.writeMap(out.name("CustomTags"), value.CustomTags, stringAdapter);
+            out.endObject();
+        }
+
+        @Override
+        public UnlinkXboxAccountRequest read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            UnlinkXboxAccountRequest value = new UnlinkXboxAccountRequest();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "CustomTags": value.CustomTags = PlayFabJson.readMap(in, stringAdapter); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class UnlinkXboxAccountResultAdapter extends TypeAdapter<UnlinkXboxAccountResult> {
+        private UnlinkXboxAccountResultAdapter(Gson gson) {
+        }
+
+        @Override
+        public void write(JsonWriter out, UnlinkXboxAccountResult value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.endObject();
+        }
+
+        @Override
+        public UnlinkXboxAccountResult read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            UnlinkXboxAccountResult value = new UnlinkXboxAccountResult();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class UnlockContainerInstanceRequestAdapter extends TypeAdapter<UnlockContainerInstanceRequest> {
+        private final TypeAdapter<String> stringAdapter;
+
+        private UnlockContainerInstanceRequestAdapter(Gson gson) {
+            stringAdapter = gson.getAdapter(String.class);
+        }
+
+        @Override
+        public void write(JsonWriter out, UnlockContainerInstanceRequest value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.name("CatalogVersion").value(value.CatalogVersion);
+            out.name("CharacterId").value(value.CharacterId);
+            out.name("ContainerItemInstanceId").value(value.ContainerItemInstanceId);
+            PlayFabJson.writeMap(out.name("CustomTags"), value.CustomTags, stringAdapter);
+            out.name("KeyItemInstanceId").value(value.KeyItemInstanceId);
+            out.endObject();
+        }
+
+        @Override
+        public UnlockContainerInstanceRequest read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            UnlockContainerInstanceRequest value = new UnlockContainerInstanceRequest();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "CatalogVersion": value.CatalogVersion = PlayFabJson.readString(in); break;
+                        case "CharacterId": value.CharacterId = PlayFabJson.readString(in); break;
+                        case "ContainerItemInstanceId": value.ContainerItemInstanceId = PlayFabJson.readString(in); break;
+                        case "CustomTags": value.CustomTags = PlayFabJson.readMap(in, stringAdapter); break;
+                        case "KeyItemInstanceId": value.KeyItemInstanceId = PlayFabJson.readString(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class UnlockContainerItemRequestAdapter extends TypeAdapter<UnlockContainerItemRequest> {
+        private final TypeAdapter<String> stringAdapter;
+
+        private UnlockContainerItemRequestAdapter(Gson gson) {
+            stringAdapter = gson.getAdapter(String.class);
+        }
+
+        @Override
+        public void write(JsonWriter out, UnlockContainerItemRequest value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.name("CatalogVersion").value(value.CatalogVersion);
+            out.name("CharacterId").value(value.CharacterId);
+            out.name("ContainerItemId").value(value.ContainerItemId);
+            PlayFabJson.writeMap(out.name("CustomTags"), value.CustomTags, stringAdapter);
+            out.endObject();
+        }
+
+        @Override
+        public UnlockContainerItemRequest read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            UnlockContainerItemRequest value = new UnlockContainerItemRequest();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "CatalogVersion": value.CatalogVersion = PlayFabJson.readString(in); break;
+                        case "CharacterId": value.CharacterId = PlayFabJson.readString(in); break;
+                        case "ContainerItemId": value.ContainerItemId = PlayFabJson.readString(in); break;
+                        case "CustomTags": value.CustomTags = PlayFabJson.readMap(in, stringAdapter); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class UnlockContainerItemResultAdapter extends TypeAdapter<UnlockContainerItemResult> {
+        private final TypeAdapter<ItemInstance> itemInstanceAdapter;
+        private final TypeAdapter<Long> longAdapter;
+
+        private UnlockContainerItemResultAdapter(Gson gson) {
+            itemInstanceAdapter = gson.getAdapter(ItemInstance.class);
+            longAdapter = gson.getAdapter(Long.class);
+        }
+
+        @Override
+        public void write(JsonWriter out, UnlockContainerItemResult value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            PlayFabJson.writeList(out.name("GrantedItems"), value.GrantedItems, itemInstanceAdapter);
+            out.name("UnlockedItemInstanceId").value(value.UnlockedItemInstanceId);
+            out.name("UnlockedWithItemInstanceId").value(value.UnlockedWithItemInstanceId);
+            PlayFabJson.writeMap(out.name("VirtualCurrency"), value.VirtualCurrency, longAdapter);
+            out.endObject();
+        }
+
+        @Override
+        public UnlockContainerItemResult read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            UnlockContainerItemResult value = new UnlockContainerItemResult();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "GrantedItems": value.GrantedItems = PlayFabJson.readList(in, itemInstanceAdapter); break;
+                        case "UnlockedItemInstanceId": value.UnlockedItemInstanceId = PlayFabJson.readString(in); break;
+                        case "UnlockedWithItemInstanceId": value.UnlockedWithItemInstanceId = PlayFabJson.readString(in); break;
+                        case "VirtualCurrency": value.VirtualCurrency = PlayFabJson.readMap(in, longAdapter); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class UpdateAvatarUrlRequestAdapter extends TypeAdapter<UpdateAvatarUrlRequest> {
+        private UpdateAvatarUrlRequestAdapter(Gson gson) {
+        }
+
+        @Override
+        public void write(JsonWriter out, UpdateAvatarUrlRequest value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.name("ImageUrl").value(value.ImageUrl);
+            out.endObject();
+        }
+
+        @Override
+        public UpdateAvatarUrlRequest read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            UpdateAvatarUrlRequest value = new UpdateAvatarUrlRequest();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "ImageUrl": value.ImageUrl = PlayFabJson.readString(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class UpdateCharacterDataRequestAdapter extends TypeAdapter<UpdateCharacterDataRequest> {
+        private final TypeAdapter<String> stringAdapter;
+        private final TypeAdapter<UserDataPermission> userDataPermissionAdapter;
+
+        private UpdateCharacterDataRequestAdapter(Gson gson) {
+            stringAdapter = gson.getAdapter(String.class);
+            userDataPermissionAdapter = gson.getAdapter(UserDataPermission.class);
+        }
+
+        @Override
+        public void write(JsonWriter out, UpdateCharacterDataRequest value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.name("CharacterId").value(value.CharacterId);
+            PlayFabJson.writeMap(out.name("CustomTags"), value.CustomTags, stringAdapter);
+            PlayFabJson.writeMap(out.name("Data"), value.Data, stringAdapter);
+            PlayFabJson.writeList(out.name("KeysToRemove"), value.KeysToRemove, stringAdapter);
+            userDataPermissionAdapter.write(out.name("Permission"), value.Permission);
+            out.endObject();
+        }
+
+        @Override
+        public UpdateCharacterDataRequest read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            UpdateCharacterDataRequest value = new UpdateCharacterDataRequest();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "CharacterId": value.CharacterId = PlayFabJson.readString(in); break;
+                        case "CustomTags": value.CustomTags = PlayFabJson.readMap(in, stringAdapter); break;
+                        case "Data": value.Data = PlayFabJson.readMap(in, stringAdapter); break;
+                        case "KeysToRemove": value.KeysToRemove = PlayFabJson.readList(in, stringAdapter); break;
+                        case "Permission": value.Permission = userDataPermissionAdapter.read(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class UpdateCharacterDataResultAdapter extends TypeAdapter<UpdateCharacterDataResult> {
+        private UpdateCharacterDataResultAdapter(Gson gson) {
+        }
+
+        @Override
+        public void write(JsonWriter out, UpdateCharacterDataResult value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.name("DataVersion").value(value.DataVersion);
+            out.endObject();
+        }
+
+        @Override
+        public UpdateCharacterDataResult read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            UpdateCharacterDataResult value = new UpdateCharacterDataResult();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "DataVersion": value.DataVersion = PlayFabJson.readLong(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class UpdateCharacterStatisticsRequestAdapter extends TypeAdapter<UpdateCharacterStatisticsRequest> {
+        private final TypeAdapter<Integer> integerAdapter;
+        private final TypeAdapter<String> stringAdapter;
+
+        private UpdateCharacterStatisticsRequestAdapter(Gson gson) {
+            integerAdapter = gson.getAdapter(Integer.class);
+            stringAdapter = gson.getAdapter(String.class);
+        }
+
+        @Override
+        public void write(JsonWriter out, UpdateCharacterStatisticsRequest value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.name("CharacterId").value(value.CharacterId);
+            PlayFabJson.writeMap(out.name("CharacterStatistics"), value.CharacterStatistics, integerAdapter);
+            PlayFabJson.writeMap(out.name("CustomTags"), value.CustomTags, stringAdapter);
+            out.endObject();
+        }
+
+        @Override
+        public UpdateCharacterStatisticsRequest read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            UpdateCharacterStatisticsRequest value = new UpdateCharacterStatisticsRequest();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "CharacterId": value.CharacterId = PlayFabJson.readString(in); break;
+                        case "CharacterStatistics": value.CharacterStatistics = PlayFabJson.readMap(in, integerAdapter); break;
+                        case "CustomTags": value.CustomTags = PlayFabJson.readMap(in, stringAdapter); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class UpdateCharacterStatisticsResultAdapter extends TypeAdapter<UpdateCharacterStatisticsResult> {
+        private UpdateCharacterStatisticsResultAdapter(Gson gson) {
+        }
+
+        @Override
+        public void write(JsonWriter out, UpdateCharacterStatisticsResult value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.endObject();
+        }
+
+        @Override
+        public UpdateCharacterStatisticsResult read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            UpdateCharacterStatisticsResult value = new UpdateCharacterStatisticsResult();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class UpdatePlayerStatisticsRequestAdapter extends TypeAdapter<UpdatePlayerStatisticsRequest> {
+        private final TypeAdapter<String> stringAdapter;
+        private final TypeAdapter<StatisticUpdate> statisticUpdateAdapter;
+
+        private UpdatePlayerStatisticsRequestAdapter(Gson gson) {
+            stringAdapter = gson.getAdapter(String.class);
+            statisticUpdateAdapter = gson.getAdapter(StatisticUpdate.class);
+        }
+
+        @Override
+        public void write(JsonWriter out, UpdatePlayerStatisticsRequest value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            PlayFabJson.writeMap(out.name("CustomTags"), value.CustomTags, stringAdapter);
+            PlayFabJson.writeList(out.name("Statistics"), value.Statistics, statisticUpdateAdapter);
+            out.endObject();
+        }
+
+        @Override
+        public UpdatePlayerStatisticsRequest read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            UpdatePlayerStatisticsRequest value = new UpdatePlayerStatisticsRequest();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "CustomTags": value.CustomTags = PlayFabJson.readMap(in, stringAdapter); break;
+                        case "Statistics": value.Statistics = PlayFabJson.readList(in, statisticUpdateAdapter); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class UpdatePlayerStatisticsResultAdapter extends TypeAdapter<UpdatePlayerStatisticsResult> {
+        private UpdatePlayerStatisticsResultAdapter(Gson gson) {
+        }
+
+        @Override
+        public void write(JsonWriter out, UpdatePlayerStatisticsResult value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.endObject();
+        }
+
+        @Override
+        public UpdatePlayerStatisticsResult read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            UpdatePlayerStatisticsResult value = new UpdatePlayerStatisticsResult();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class UpdateSharedGroupDataRequestAdapter extends TypeAdapter<UpdateSharedGroupDataRequest> {
+        private final TypeAdapter<String> stringAdapter;
+        private final TypeAdapter<UserDataPermission> userDataPermissionAdapter;
+
+        private UpdateSharedGroupDataRequestAdapter(Gson gson) {
+            stringAdapter = gson.getAdapter(String.class);
+            userDataPermissionAdapter = gson.getAdapter(UserDataPermission.class);
+        }
+
+        @Override
+        public void write(JsonWriter out, UpdateSharedGroupDataRequest value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            PlayFabJson.writeMap(out.name("CustomTags"), value.CustomTags, stringAdapter);
+            PlayFabJson.writeMap(out.name("Data"), value.Data, stringAdapter);
+            PlayFabJson.writeList(out.name("KeysToRemove"), value.KeysToRemove, stringAdapter);
+            userDataPermissionAdapter.write(out.name("Permission"), value.Permission);
+            out.name("SharedGroupId").value(value.SharedGroupId);
+            out.endObject();
+        }
+
+        @Override
+        public UpdateSharedGroupDataRequest read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            UpdateSharedGroupDataRequest value = new UpdateSharedGroupDataRequest();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "CustomTags": value.CustomTags = PlayFabJson.readMap(in, stringAdapter); break;
+                        case "Data": value.Data = PlayFabJson.readMap(in, stringAdapter); break;
+                        case "KeysToRemove": value.KeysToRemove = PlayFabJson.readList(in, stringAdapter); break;
+                        case "Permission": value.Permission = userDataPermissionAdapter.read(in); break;
+                        case "SharedGroupId": value.SharedGroupId = PlayFabJson.readString(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class UpdateSharedGroupDataResultAdapter extends TypeAdapter<UpdateSharedGroupDataResult> {
+        private UpdateSharedGroupDataResultAdapter(Gson gson) {
+        }
+
+        @Override
+        public void write(JsonWriter out, UpdateSharedGroupDataResult value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.endObject();
+        }
+
+        @Override
+        public UpdateSharedGroupDataResult read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            UpdateSharedGroupDataResult value = new UpdateSharedGroupDataResult();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class UpdateUserDataRequestAdapter extends TypeAdapter<UpdateUserDataRequest> {
+        private final TypeAdapter<String> stringAdapter;
+        private final TypeAdapter<UserDataPermission> userDataPermissionAdapter;
+
+        private UpdateUserDataRequestAdapter(Gson gson) {
+            stringAdapter = gson.getAdapter(String.class);
+            userDataPermissionAdapter = gson.getAdapter(UserDataPermission.class);
+        }
+
+        @Override
+        public void write(JsonWriter out, UpdateUserDataRequest value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            PlayFabJson.writeMap(out.name("CustomTags"), value.CustomTags, stringAdapter);
+            PlayFabJson.writeMap(out.name("Data"), value.Data, stringAdapter);
+            PlayFabJson.writeList(out.name("KeysToRemove"), value.KeysToRemove, stringAdapter);
+            userDataPermissionAdapter.write(out.name("Permission"), value.Permission);
+            out.endObject();
+        }
+
+        @Override
+        public UpdateUserDataRequest read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            UpdateUserDataRequest value = new UpdateUserDataRequest();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "CustomTags": value.CustomTags = PlayFabJson.readMap(in, stringAdapter); break;
+                        case "Data": value.Data = PlayFabJson.readMap(in, stringAdapter); break;
+                        case "KeysToRemove": value.KeysToRemove = PlayFabJson.readList(in, stringAdapter); break;
+                        case "Permission": value.Permission = userDataPermissionAdapter.read(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class UpdateUserDataResultAdapter extends TypeAdapter<UpdateUserDataResult> {
+        private UpdateUserDataResultAdapter(Gson gson) {
+        }
+
+        @Override
+        public void write(JsonWriter out, UpdateUserDataResult value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.name("DataVersion").value(value.DataVersion);
+            out.endObject();
+        }
+
+        @Override
+        public UpdateUserDataResult read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            UpdateUserDataResult value = new UpdateUserDataResult();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "DataVersion": value.DataVersion = PlayFabJson.readLong(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class UpdateUserTitleDisplayNameRequestAdapter extends TypeAdapter<UpdateUserTitleDisplayNameRequest> {
+        private final TypeAdapter<String> stringAdapter;
+
+        private UpdateUserTitleDisplayNameRequestAdapter(Gson gson) {
+            stringAdapter = gson.getAdapter(String.class);
+        }
+
+        @Override
+        public void write(JsonWriter out, UpdateUserTitleDisplayNameRequest value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            PlayFabJson.writeMap(out.name("CustomTags"), value.CustomTags, stringAdapter);
+            out.name("DisplayName").value(value.DisplayName);
+            out.endObject();
+        }
+
+        @Override
+        public UpdateUserTitleDisplayNameRequest read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            UpdateUserTitleDisplayNameRequest value = new UpdateUserTitleDisplayNameRequest();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "CustomTags": value.CustomTags = PlayFabJson.readMap(in, stringAdapter); break;
+                        case "DisplayName": value.DisplayName = PlayFabJson.readString(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class UpdateUserTitleDisplayNameResultAdapter extends TypeAdapter<UpdateUserTitleDisplayNameResult> {
+        private UpdateUserTitleDisplayNameResultAdapter(Gson gson) {
+        }
+
+        @Override
+        public void write(JsonWriter out, UpdateUserTitleDisplayNameResult value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.name("DisplayName").value(value.DisplayName);
+            out.endObject();
+        }
+
+        @Override
+        public UpdateUserTitleDisplayNameResult read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            UpdateUserTitleDisplayNameResult value = new UpdateUserTitleDisplayNameResult();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "DisplayName": value.DisplayName = PlayFabJson.readString(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class UserAccountInfoAdapter extends TypeAdapter<UserAccountInfo> {
+        private final TypeAdapter<UserAndroidDeviceInfo> userAndroidDeviceInfoAdapter;
+        private final TypeAdapter<UserAppleIdInfo> userAppleIdInfoAdapter;
+        private final TypeAdapter<Date> dateAdapter;
+        private final TypeAdapter<UserCustomIdInfo> userCustomIdInfoAdapter;
+        private final TypeAdapter<UserFacebookInfo> userFacebookInfoAdapter;
+        private final TypeAdapter<UserFacebookInstantGamesIdInfo> userFacebookInstantGamesIdInfoAdapter;
+        private final TypeAdapter<UserGameCenterInfo> userGameCenterInfoAdapter;
+        private final TypeAdapter<UserGoogleInfo> userGoogleInfoAdapter;
+        private final TypeAdapter<UserIosDeviceInfo> userIosDeviceInfoAdapter;
+        private final TypeAdapter<UserKongregateInfo> userKongregateInfoAdapter;
+        private final TypeAdapter<UserNintendoSwitchAccountIdInfo> userNintendoSwitchAccountIdInfoAdapter;
+        private final TypeAdapter<UserNintendoSwitchDeviceIdInfo> userNintendoSwitchDeviceIdInfoAdapter;
+        private final TypeAdapter<UserOpenIdInfo> userOpenIdInfoAdapter;
+        private final TypeAdapter<UserPrivateAccountInfo> userPrivateAccountInfoAdapter;
+        private final TypeAdapter<UserPsnInfo> userPsnInfoAdapter;
+        private final TypeAdapter<UserSteamInfo> userSteamInfoAdapter;
+        private final TypeAdapter<UserTitleInfo> userTitleInfoAdapter;
+        private final TypeAdapter<UserTwitchInfo> userTwitchInfoAdapter;
+        private final TypeAdapter<UserXboxInfo> userXboxInfoAdapter;
+
+        private UserAccountInfoAdapter(Gson gson) {
+            userAndroidDeviceInfoAdapter = gson.getAdapter(UserAndroidDeviceInfo.class);
+            userAppleIdInfoAdapter = gson.getAdapter(UserAppleIdInfo.class);
+            dateAdapter = gson.getAdapter(Date.class);
+            userCustomIdInfoAdapter = gson.getAdapter(UserCustomIdInfo.class);
+            userFacebookInfoAdapter = gson.getAdapter(UserFacebookInfo.class);
+            userFacebookInstantGamesIdInfoAdapter = gson.getAdapter(UserFacebookInstantGamesIdInfo.class);
+            userGameCenterInfoAdapter = gson.getAdapter(UserGameCenterInfo.class);
+            userGoogleInfoAdapter = gson.getAdapter(UserGoogleInfo.class);
+            userIosDeviceInfoAdapter = gson.getAdapter(UserIosDeviceInfo.class);
+            userKongregateInfoAdapter = gson.getAdapter(UserKongregateInfo.class);
+            userNintendoSwitchAccountIdInfoAdapter = gson.getAdapter(UserNintendoSwitchAccountIdInfo.class);
+            userNintendoSwitchDeviceIdInfoAdapter = gson.getAdapter(UserNintendoSwitchDeviceIdInfo.class);
+            userOpenIdInfoAdapter = gson.getAdapter(UserOpenIdInfo.class);
+            userPrivateAccountInfoAdapter = gson.getAdapter(UserPrivateAccountInfo.class);
+            userPsnInfoAdapter = gson.getAdapter(UserPsnInfo.class);
+            userSteamInfoAdapter = gson.getAdapter(UserSteamInfo.class);
+            userTitleInfoAdapter = gson.getAdapter(UserTitleInfo.class);
+            userTwitchInfoAdapter = gson.getAdapter(UserTwitchInfo.class);
+            userXboxInfoAdapter = gson.getAdapter(UserXboxInfo.class);
+        }
+
+        @Override
+        public void write(JsonWriter out, UserAccountInfo value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            userAndroidDeviceInfoAdapter.write(out.name("AndroidDeviceInfo"), value.AndroidDeviceInfo);
+            userAppleIdInfoAdapter.write(out.name("AppleAccountInfo"), value.AppleAccountInfo);
+            dateAdapter.write(out.name("Created"), value.Created);
+            userCustomIdInfoAdapter.write(out.name("CustomIdInfo"), value.CustomIdInfo);
+            userFacebookInfoAdapter.write(out.name("FacebookInfo"), value.FacebookInfo);
+            userFacebookInstantGamesIdInfoAdapter.write(out.name("FacebookInstantGamesIdInfo"), value.FacebookInstantGamesIdInfo);
+            userGameCenterInfoAdapter.write(out.name("GameCenterInfo"), value.GameCenterInfo);
+            userGoogleInfoAdapter.write(out.name("GoogleInfo"), value.GoogleInfo);
+            userIosDeviceInfoAdapter.write(out.name("IosDeviceInfo"), value.IosDeviceInfo);
+            userKongregateInfoAdapter.write(out.name("KongregateInfo"), value.KongregateInfo);
+            userNintendoSwitchAccountIdInfoAdapter.write(out.name("NintendoSwitchAccountInfo"), value.NintendoSwitchAccountInfo);
+            userNintendoSwitchDeviceIdInfoAdapter.write(out.name("NintendoSwitchDeviceIdInfo"), value.NintendoSwitchDeviceIdInfo);
+            PlayFabJson.writeList(out.name("OpenIdInfo"), value.OpenIdInfo, userOpenIdInfoAdapter);
+            out.name("PlayFabId").value(value.PlayFabId);
+            userPrivateAccountInfoAdapter.write(out.name("PrivateInfo"), value.PrivateInfo);
+            userPsnInfoAdapter.write(out.name("PsnInfo"), value.PsnInfo);
+            userSteamInfoAdapter.write(out.name("SteamInfo"), value.SteamInfo);
+            userTitleInfoAdapter.write(out.name("TitleInfo"), value.TitleInfo);
+            userTwitchInfoAdapter.write(out.name("TwitchInfo"), value.TwitchInfo);
+            out.name("Username").value(value.Username);
+            userXboxInfoAdapter.write(out.name("XboxInfo"), value.XboxInfo);
+            out.endObject();
+        }
+
+        @Override
+        public UserAccountInfo read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            UserAccountInfo value = new UserAccountInfo();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "AndroidDeviceInfo": value.AndroidDeviceInfo = userAndroidDeviceInfoAdapter.read(in); break;
+                        case "AppleAccountInfo": value.AppleAccountInfo = userAppleIdInfoAdapter.read(in); break;
+                        case "Created": value.Created = dateAdapter.read(in); break;
+                        case "CustomIdInfo": value.CustomIdInfo = userCustomIdInfoAdapter.read(in); break;
+                        case "FacebookInfo": value.FacebookInfo = userFacebookInfoAdapter.read(in); break;
+                        case "FacebookInstantGamesIdInfo": value.FacebookInstantGamesIdInfo = userFacebookInstantGamesIdInfoAdapter.read(in); break;
+                        case "GameCenterInfo": value.GameCenterInfo = userGameCenterInfoAdapter.read(in); break;
+                        case "GoogleInfo": value.GoogleInfo = userGoogleInfoAdapter.read(in); break;
+                        case "IosDeviceInfo": value.IosDeviceInfo = userIosDeviceInfoAdapter.read(in); break;
+                        case "KongregateInfo": value.KongregateInfo = userKongregateInfoAdapter.read(in); break;
+                        case "NintendoSwitchAccountInfo": value.NintendoSwitchAccountInfo = userNintendoSwitchAccountIdInfoAdapter.read(in); break;
+                        case "NintendoSwitchDeviceIdInfo": value.NintendoSwitchDeviceIdInfo = userNintendoSwitchDeviceIdInfoAdapter.read(in); break;
+                        case "OpenIdInfo": value.OpenIdInfo = PlayFabJson.readList(in, userOpenIdInfoAdapter); break;
+                        case "PlayFabId": value.PlayFabId = PlayFabJson.readString(in); break;
+                        case "PrivateInfo": value.PrivateInfo = userPrivateAccountInfoAdapter.read(in); break;
+                        case "PsnInfo": value.PsnInfo = userPsnInfoAdapter.read(in); break;
+                        case "SteamInfo": value.SteamInfo = userSteamInfoAdapter.read(in); break;
+                        case "TitleInfo": value.TitleInfo = userTitleInfoAdapter.read(in); break;
+                        case "TwitchInfo": value.TwitchInfo = userTwitchInfoAdapter.read(in); break;
+                        case "Username": value.Username = PlayFabJson.readString(in); break;
+                        case "XboxInfo": value.XboxInfo = userXboxInfoAdapter.read(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class UserAndroidDeviceInfoAdapter extends TypeAdapter<UserAndroidDeviceInfo> {
+        private UserAndroidDeviceInfoAdapter(Gson gson) {
+        }
+
+        @Override
+        public void write(JsonWriter out, UserAndroidDeviceInfo value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.name("AndroidDeviceId").value(value.AndroidDeviceId);
+            out.endObject();
+        }
+
+        @Override
+        public UserAndroidDeviceInfo read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            UserAndroidDeviceInfo value = new UserAndroidDeviceInfo();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "AndroidDeviceId": value.AndroidDeviceId = PlayFabJson.readString(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class UserAppleIdInfoAdapter extends TypeAdapter<UserAppleIdInfo> {
+        private UserAppleIdInfoAdapter(Gson gson) {
+        }
+
+        @Override
+        public void write(JsonWriter out, UserAppleIdInfo value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.name("AppleSubjectId").value(value.AppleSubjectId);
+            out.endObject();
+        }
+
+        @Override
+        public UserAppleIdInfo read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            UserAppleIdInfo value = new UserAppleIdInfo();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "AppleSubjectId": value.AppleSubjectId = PlayFabJson.readString(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class UserCustomIdInfoAdapter extends TypeAdapter<UserCustomIdInfo> {
+        private UserCustomIdInfoAdapter(Gson gson) {
+        }
+
+        @Override
+        public void write(JsonWriter out, UserCustomIdInfo value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.name("CustomId").value(value.CustomId);
+            out.endObject();
+        }
+
+        @Override
+        public UserCustomIdInfo read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            UserCustomIdInfo value = new UserCustomIdInfo();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "CustomId": value.CustomId = PlayFabJson.readString(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class UserDataRecordAdapter extends TypeAdapter<UserDataRecord> {
+        private final TypeAdapter<Date> dateAdapter;
+        private final TypeAdapter<UserDataPermission> userDataPermissionAdapter;
+
+        private UserDataRecordAdapter(Gson gson) {
+            dateAdapter = gson.getAdapter(Date.class);
+            userDataPermissionAdapter = gson.getAdapter(UserDataPermission.class);
+        }
+
+        @Override
+        public void write(JsonWriter out, UserDataRecord value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            dateAdapter.write(out.name("LastUpdated"), value.LastUpdated);
+            userDataPermissionAdapter.write(out.name("Permission"), value.Permission);
+            out.name("Value").value(value.Value);
+            out.endObject();
+        }
+
+        @Override
+        public UserDataRecord read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            UserDataRecord value = new UserDataRecord();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "LastUpdated": value.LastUpdated = dateAdapter.read(in); break;
+                        case "Permission": value.Permission = userDataPermissionAdapter.read(in); break;
+                        case "Value": value.Value = PlayFabJson.readString(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class UserFacebookInfoAdapter extends TypeAdapter<UserFacebookInfo> {
+        private UserFacebookInfoAdapter(Gson gson) {
+        }
+
+        @Override
+        public void write(JsonWriter out, UserFacebookInfo value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.name("FacebookId").value(value.FacebookId);
+            out.name("FullName").value(value.FullName);
+            out.endObject();
+        }
+
+        @Override
+        public UserFacebookInfo read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            UserFacebookInfo value = new UserFacebookInfo();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "FacebookId": value.FacebookId = PlayFabJson.readString(in); break;
+                        case "FullName": value.FullName = PlayFabJson.readString(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class UserFacebookInstantGamesIdInfoAdapter extends TypeAdapter<UserFacebookInstantGamesIdInfo> {
+        private UserFacebookInstantGamesIdInfoAdapter(Gson gson) {
+        }
+
+        @Override
+        public void write(JsonWriter out, UserFacebookInstantGamesIdInfo value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.name("FacebookInstantGamesId").value(value.FacebookInstantGamesId);
+            out.endObject();
+        }
+
+        @Override
+        public UserFacebookInstantGamesIdInfo read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            UserFacebookInstantGamesIdInfo value = new UserFacebookInstantGamesIdInfo();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "FacebookInstantGamesId": value.FacebookInstantGamesId = PlayFabJson.readString(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class UserGameCenterInfoAdapter extends TypeAdapter<UserGameCenterInfo> {
+        private UserGameCenterInfoAdapter(Gson gson) {
+        }
+
+        @Override
+        public void write(JsonWriter out, UserGameCenterInfo value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.name("GameCenterId").value(value.GameCenterId);
+            out.endObject();
+        }
+
+        @Override
+        public UserGameCenterInfo read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            UserGameCenterInfo value = new UserGameCenterInfo();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "GameCenterId": value.GameCenterId = PlayFabJson.readString(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class UserGoogleInfoAdapter extends TypeAdapter<UserGoogleInfo> {
+        private UserGoogleInfoAdapter(Gson gson) {
+        }
+
+        @Override
+        public void write(JsonWriter out, UserGoogleInfo value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.name("GoogleEmail").value(value.GoogleEmail);
+            out.name("GoogleGender").value(value.GoogleGender);
+            out.name("GoogleId").value(value.GoogleId);
+            out.name("GoogleLocale").value(value.GoogleLocale);
+            out.name("GoogleName").value(value.GoogleName);
+            out.endObject();
+        }
+
+        @Override
+        public UserGoogleInfo read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            UserGoogleInfo value = new UserGoogleInfo();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "GoogleEmail": value.GoogleEmail = PlayFabJson.readString(in); break;
+                        case "GoogleGender": value.GoogleGender = PlayFabJson.readString(in); break;
+                        case "GoogleId": value.GoogleId = PlayFabJson.readString(in); break;
+                        case "GoogleLocale": value.GoogleLocale = PlayFabJson.readString(in); break;
+                        case "GoogleName": value.GoogleName = PlayFabJson.readString(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class UserIosDeviceInfoAdapter extends TypeAdapter<UserIosDeviceInfo> {
+        private UserIosDeviceInfoAdapter(Gson gson) {
+        }
+
+        @Override
+        public void write(JsonWriter out, UserIosDeviceInfo value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.name("IosDeviceId").value(value.IosDeviceId);
+            out.endObject();
+        }
+
+        @Override
+        public UserIosDeviceInfo read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            UserIosDeviceInfo value = new UserIosDeviceInfo();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "IosDeviceId": value.IosDeviceId = PlayFabJson.readString(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class UserKongregateInfoAdapter extends TypeAdapter<UserKongregateInfo> {
+        private UserKongregateInfoAdapter(Gson gson) {
+        }
+
+        @Override
+        public void write(JsonWriter out, UserKongregateInfo value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.name("KongregateId").value(value.KongregateId);
+            out.name("KongregateName").value(value.KongregateName);
+            out.endObject();
+        }
+
+        @Override
+        public UserKongregateInfo read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            UserKongregateInfo value = new UserKongregateInfo();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "KongregateId": value.KongregateId = PlayFabJson.readString(in); break;
+                        case "KongregateName": value.KongregateName = PlayFabJson.readString(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class UserNintendoSwitchAccountIdInfoAdapter extends TypeAdapter<UserNintendoSwitchAccountIdInfo> {
+        private UserNintendoSwitchAccountIdInfoAdapter(Gson gson) {
+        }
+
+        @Override
+        public void write(JsonWriter out, UserNintendoSwitchAccountIdInfo value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.name("NintendoSwitchAccountSubjectId").value(value.NintendoSwitchAccountSubjectId);
+            out.endObject();
+        }
+
+        @Override
+        public UserNintendoSwitchAccountIdInfo read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            UserNintendoSwitchAccountIdInfo value = new UserNintendoSwitchAccountIdInfo();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "NintendoSwitchAccountSubjectId": value.NintendoSwitchAccountSubjectId = PlayFabJson.readString(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class UserNintendoSwitchDeviceIdInfoAdapter extends TypeAdapter<UserNintendoSwitchDeviceIdInfo> {
+        private UserNintendoSwitchDeviceIdInfoAdapter(Gson gson) {
+        }
+
+        @Override
+        public void write(JsonWriter out, UserNintendoSwitchDeviceIdInfo value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.name("NintendoSwitchDeviceId").value(value.NintendoSwitchDeviceId);
+            out.endObject();
+        }
+
+        @Override
+        public UserNintendoSwitchDeviceIdInfo read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            UserNintendoSwitchDeviceIdInfo value = new UserNintendoSwitchDeviceIdInfo();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "NintendoSwitchDeviceId": value.NintendoSwitchDeviceId = PlayFabJson.readString(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class UserOpenIdInfoAdapter extends TypeAdapter<UserOpenIdInfo> {
+        private UserOpenIdInfoAdapter(Gson gson) {
+        }
+
+        @Override
+        public void write(JsonWriter out, UserOpenIdInfo value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.name("ConnectionId").value(value.ConnectionId);
+            out.name("Issuer").value(value.Issuer);
+            out.name("Subject").value(value.Subject);
+            out.endObject();
+        }
+
+        @Override
+        public UserOpenIdInfo read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            UserOpenIdInfo value = new UserOpenIdInfo();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "ConnectionId": value.ConnectionId = PlayFabJson.readString(in); break;
+                        case "Issuer": value.Issuer = PlayFabJson.readString(in); break;
+                        case "Subject": value.Subject = PlayFabJson.readString(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class UserPrivateAccountInfoAdapter extends TypeAdapter<UserPrivateAccountInfo> {
+        private UserPrivateAccountInfoAdapter(Gson gson) {
+        }
+
+        @Override
+        public void write(JsonWriter out, UserPrivateAccountInfo value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.name("Email").value(value.Email);
+            out.endObject();
+        }
+
+        @Override
+        public UserPrivateAccountInfo read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            UserPrivateAccountInfo value = new UserPrivateAccountInfo();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "Email": value.Email = PlayFabJson.readString(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class UserPsnInfoAdapter extends TypeAdapter<UserPsnInfo> {
+        private UserPsnInfoAdapter(Gson gson) {
+        }
+
+        @Override
+        public void write(JsonWriter out, UserPsnInfo value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.name("PsnAccountId").value(value.PsnAccountId);
+            out.name("PsnOnlineId").value(value.PsnOnlineId);
+            out.endObject();
+        }
+
+        @Override
+        public UserPsnInfo read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            UserPsnInfo value = new UserPsnInfo();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "PsnAccountId": value.PsnAccountId = PlayFabJson.readString(in); break;
+                        case "PsnOnlineId": value.PsnOnlineId = PlayFabJson.readString(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class UserSettingsAdapter extends TypeAdapter<UserSettings> {
+        private UserSettingsAdapter(Gson gson) {
+        }
+
+        @Override
+        public void write(JsonWriter out, UserSettings value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.name("GatherDeviceInfo").value(value.GatherDeviceInfo);
+            out.name("GatherFocusInfo").value(value.GatherFocusInfo);
+            out.name("NeedsAttribution").value(value.NeedsAttribution);
+            out.endObject();
+        }
+
+        @Override
+        public UserSettings read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            UserSettings value = new UserSettings();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "GatherDeviceInfo": value.GatherDeviceInfo = PlayFabJson.readBoolean(in); break;
+                        case "GatherFocusInfo": value.GatherFocusInfo = PlayFabJson.readBoolean(in); break;
+                        case "NeedsAttribution": value.NeedsAttribution = PlayFabJson.readBoolean(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class UserSteamInfoAdapter extends TypeAdapter<UserSteamInfo> {
+        private final TypeAdapter<TitleActivationStatus> titleActivationStatusAdapter;
+        private final TypeAdapter<Currency> currencyAdapter;
+
+        private UserSteamInfoAdapter(Gson gson) {
+            titleActivationStatusAdapter = gson.getAdapter(TitleActivationStatus.class);
+            currencyAdapter = gson.getAdapter(Currency.class);
+        }
+
+        @Override
+        public void write(JsonWriter out, UserSteamInfo value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            titleActivationStatusAdapter.write(out.name("SteamActivationStatus"), value.SteamActivationStatus);
+            out.name("SteamCountry").value(value.SteamCountry);
+            currencyAdapter.write(out.name("SteamCurrency"), value.SteamCurrency);
+            out.name("SteamId").value(value.SteamId);
+            out.name("SteamName").value(value.SteamName);
+            out.endObject();
+        }
+
+        @Override
+        public UserSteamInfo read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            UserSteamInfo value = new UserSteamInfo();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "SteamActivationStatus": value.SteamActivationStatus = titleActivationStatusAdapter.read(in); break;
+                        case "SteamCountry": value.SteamCountry = PlayFabJson.readString(in); break;
+                        case "SteamCurrency": value.SteamCurrency = currencyAdapter.read(in); break;
+                        case "SteamId": value.SteamId = PlayFabJson.readString(in); break;
+                        case "SteamName": value.SteamName = PlayFabJson.readString(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class UserTitleInfoAdapter extends TypeAdapter<UserTitleInfo> {
+        private final TypeAdapter<Date> dateAdapter;
+        private final TypeAdapter<UserOrigination> userOriginationAdapter;
+        private final TypeAdapter<EntityKey> entityKeyAdapter;
+
+        private UserTitleInfoAdapter(Gson gson) {
+            dateAdapter = gson.getAdapter(Date.class);
+            userOriginationAdapter = gson.getAdapter(UserOrigination.class);
+            entityKeyAdapter = gson.getAdapter(EntityKey.class);
+        }
+
+        @Override
+        public void write(JsonWriter out, UserTitleInfo value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.name("AvatarUrl").value(value.AvatarUrl);
+            dateAdapter.write(out.name("Created"), value.Created);
+            out.name("DisplayName").value(value.DisplayName);
+            dateAdapter.write(out.name("FirstLogin"), value.FirstLogin);
+            out.name("isBanned").value(value.isBanned);
+            dateAdapter.write(out.name("LastLogin"), value.LastLogin);
+            userOriginationAdapter.write(out.name("Origination"), value.Origination);
+            entityKeyAdapter.write(out.name("TitlePlayerAccount"), value.TitlePlayerAccount);
+            out.endObject();
+        }
+
+        @Override
+        public UserTitleInfo read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            UserTitleInfo value = new UserTitleInfo();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "AvatarUrl": value.AvatarUrl = PlayFabJson.readString(in); break;
+                        case "Created": value.Created = dateAdapter.read(in); break;
+                        case "DisplayName": value.DisplayName = PlayFabJson.readString(in); break;
+                        case "FirstLogin": value.FirstLogin = dateAdapter.read(in); break;
+                        case "isBanned": value.isBanned = PlayFabJson.readBoolean(in); break;
+                        case "LastLogin": value.LastLogin = dateAdapter.read(in); break;
+                        case "Origination": value.Origination = userOriginationAdapter.read(in); break;
+                        case "TitlePlayerAccount": value.TitlePlayerAccount = entityKeyAdapter.read(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class UserTwitchInfoAdapter extends TypeAdapter<UserTwitchInfo> {
+        private UserTwitchInfoAdapter(Gson gson) {
+        }
+
+        @Override
+        public void write(JsonWriter out, UserTwitchInfo value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.name("TwitchId").value(value.TwitchId);
+            out.name("TwitchUserName").value(value.TwitchUserName);
+            out.endObject();
+        }
+
+        @Override
+        public UserTwitchInfo read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            UserTwitchInfo value = new UserTwitchInfo();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "TwitchId": value.TwitchId = PlayFabJson.readString(in); break;
+                        case "TwitchUserName": value.TwitchUserName = PlayFabJson.readString(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class UserXboxInfoAdapter extends TypeAdapter<UserXboxInfo> {
+        private UserXboxInfoAdapter(Gson gson) {
+        }
+
+        @Override
+        public void write(JsonWriter out, UserXboxInfo value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.name("XboxUserId").value(value.XboxUserId);
+            out.endObject();
+        }
+
+        @Override
+        public UserXboxInfo read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            UserXboxInfo value = new UserXboxInfo();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "XboxUserId": value.XboxUserId = PlayFabJson.readString(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class ValidateAmazonReceiptRequestAdapter extends TypeAdapter<ValidateAmazonReceiptRequest> {
+        private final TypeAdapter<String> stringAdapter;
+
+        private ValidateAmazonReceiptRequestAdapter(Gson gson) {
+            stringAdapter = gson.getAdapter(String.class);
+        }
+
+        @Override
+        public void write(JsonWriter out, ValidateAmazonReceiptRequest value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.name("CatalogVersion").value(value.CatalogVersion);
+            out.name("CurrencyCode").value(value.CurrencyCode);
+            PlayFabJson.writeMap(out.name("CustomTags"), value.CustomTags, stringAdapter);
+            out.name("PurchasePrice").value(value.PurchasePrice);
+            out.name("ReceiptId").value(value.ReceiptId);
+            out.name("UserId").value(value.UserId);
+            out.endObject();
+        }
+
+        @Override
+        public ValidateAmazonReceiptRequest read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            ValidateAmazonReceiptRequest value = new ValidateAmazonReceiptRequest();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "CatalogVersion": value.CatalogVersion = PlayFabJson.readString(in); break;
+                        case "CurrencyCode": value.CurrencyCode = PlayFabJson.readString(in); break;
+                        case "CustomTags": value.CustomTags = PlayFabJson.readMap(in, stringAdapter); break;
+                        case "PurchasePrice": value.PurchasePrice = PlayFabJson.readInteger(in); break;
+                        case "ReceiptId": value.ReceiptId = PlayFabJson.readString(in); break;
+                        case "UserId": value.UserId = PlayFabJson.readString(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class ValidateAmazonReceiptResultAdapter extends TypeAdapter<ValidateAmazonReceiptResult> {
+        private final TypeAdapter<PurchaseReceiptFulfillment> purchaseReceiptFulfillmentAdapter;
+
+        private ValidateAmazonReceiptResultAdapter(Gson gson) {
+            purchaseReceiptFulfillmentAdapter = gson.getAdapter(PurchaseReceiptFulfillment.class);
+        }
+
+        @Override
+        public void write(JsonWriter out, ValidateAmazonReceiptResult value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            PlayFabJson.writeList(out.name("Fulfillments"), value.Fulfillments, purchaseReceiptFulfillmentAdapter);
+            out.endObject();
+        }
+
+        @Override
+        public ValidateAmazonReceiptResult read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            ValidateAmazonReceiptResult value = new ValidateAmazonReceiptResult();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "Fulfillments": value.Fulfillments = PlayFabJson.readList(in, purchaseReceiptFulfillmentAdapter); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class ValidateGooglePlayPurchaseRequestAdapter extends TypeAdapter<ValidateGooglePlayPurchaseRequest> {
+        private final TypeAdapter<String> stringAdapter;
+
+        private ValidateGooglePlayPurchaseRequestAdapter(Gson gson) {
+            stringAdapter = gson.getAdapter(String.class);
+        }
+
+        @Override
+        public void write(JsonWriter out, ValidateGooglePlayPurchaseRequest value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.name("CatalogVersion").value(value.CatalogVersion);
+            out.name("CurrencyCode").value(value.CurrencyCode);
+            PlayFabJson.writeMap(out.name("CustomTags"), value.CustomTags, stringAdapter);
+            out.name("PurchasePrice").value(value.PurchasePrice);
+            out.name("ReceiptJson").value(value.ReceiptJson);
+            out.name("Signature").value(value.Signature);
+            out.endObject();
+        }
+
+        @Override
+        public ValidateGooglePlayPurchaseRequest read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            ValidateGooglePlayPurchaseRequest value = new ValidateGooglePlayPurchaseRequest();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "CatalogVersion": value.CatalogVersion = PlayFabJson.readString(in); break;
+                        case "CurrencyCode": value.CurrencyCode = PlayFabJson.readString(in); break;
+                        case "CustomTags": value.CustomTags = PlayFabJson.readMap(in, stringAdapter); break;
+                        case "PurchasePrice": value.PurchasePrice = PlayFabJson.readLong(in); break;
+                        case "ReceiptJson": value.ReceiptJson = PlayFabJson.readString(in); break;
+                        case "Signature": value.Signature = PlayFabJson.readString(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class ValidateGooglePlayPurchaseResultAdapter extends TypeAdapter<ValidateGooglePlayPurchaseResult> {
+        private final TypeAdapter<PurchaseReceiptFulfillment> purchaseReceiptFulfillmentAdapter;
+
+        private ValidateGooglePlayPurchaseResultAdapter(Gson gson) {
+            purchaseReceiptFulfillmentAdapter = gson.getAdapter(PurchaseReceiptFulfillment.class);
+        }
+
+        @Override
+        public void write(JsonWriter out, ValidateGooglePlayPurchaseResult value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            PlayFabJson.writeList(out.name("Fulfillments"), value.Fulfillments, purchaseReceiptFulfillmentAdapter);
+            out.endObject();
+        }
+
+        @Override
+        public ValidateGooglePlayPurchaseResult read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            ValidateGooglePlayPurchaseResult value = new ValidateGooglePlayPurchaseResult();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "Fulfillments": value.Fulfillments = PlayFabJson.readList(in, purchaseReceiptFulfillmentAdapter); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class ValidateIOSReceiptRequestAdapter extends TypeAdapter<ValidateIOSReceiptRequest> {
+        private final TypeAdapter<String> stringAdapter;
+
+        private ValidateIOSReceiptRequestAdapter(Gson gson) {
+            stringAdapter = gson.getAdapter(String.class);
+        }
+
+        @Override
+        public void write(JsonWriter out, ValidateIOSReceiptRequest value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.name("CatalogVersion").value(value.CatalogVersion);
+            out.name("CurrencyCode").value(value.CurrencyCode);
+            PlayFabJson.writeMap(out.name("CustomTags"), value.CustomTags, stringAdapter);
+            out.name("PurchasePrice").value(value.PurchasePrice);
+            out.name("ReceiptData").value(value.ReceiptData);
+            out.endObject();
+        }
+
+        @Override
+        public ValidateIOSReceiptRequest read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            ValidateIOSReceiptRequest value = new ValidateIOSReceiptRequest();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "CatalogVersion": value.CatalogVersion = PlayFabJson.readString(in); break;
+                        case "CurrencyCode": value.CurrencyCode = PlayFabJson.readString(in); break;
+                        case "CustomTags": value.CustomTags = PlayFabJson.readMap(in, stringAdapter); break;
+                        case "PurchasePrice": value.PurchasePrice = PlayFabJson.readInteger(in); break;
+                        case "ReceiptData": value.ReceiptData = PlayFabJson.readString(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class ValidateIOSReceiptResultAdapter extends TypeAdapter<ValidateIOSReceiptResult> {
+        private final TypeAdapter<PurchaseReceiptFulfillment> purchaseReceiptFulfillmentAdapter;
+
+        private ValidateIOSReceiptResultAdapter(Gson gson) {
+            purchaseReceiptFulfillmentAdapter = gson.getAdapter(PurchaseReceiptFulfillment.class);
+        }
+
+        @Override
+        public void write(JsonWriter out, ValidateIOSReceiptResult value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            PlayFabJson.writeList(out.name("Fulfillments"), value.Fulfillments, purchaseReceiptFulfillmentAdapter);
+            out.endObject();
+        }
+
+        @Override
+        public ValidateIOSReceiptResult read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            ValidateIOSReceiptResult value = new ValidateIOSReceiptResult();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "Fulfillments": value.Fulfillments = PlayFabJson.readList(in, purchaseReceiptFulfillmentAdapter); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class ValidateWindowsReceiptRequestAdapter extends TypeAdapter<ValidateWindowsReceiptRequest> {
+        private final TypeAdapter<String> stringAdapter;
+
+        private ValidateWindowsReceiptRequestAdapter(Gson gson) {
+            stringAdapter = gson.getAdapter(String.class);
+        }
+
+        @Override
+        public void write(JsonWriter out, ValidateWindowsReceiptRequest value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.name("CatalogVersion").value(value.CatalogVersion);
+            out.name("CurrencyCode").value(value.CurrencyCode);
+            PlayFabJson.writeMap(out.name("CustomTags"), value.CustomTags, stringAdapter);
+            out.name("PurchasePrice").value(value.PurchasePrice);
+            out.name("Receipt").value(value.Receipt);
+            out.endObject();
+        }
+
+        @Override
+        public ValidateWindowsReceiptRequest read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            ValidateWindowsReceiptRequest value = new ValidateWindowsReceiptRequest();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "CatalogVersion": value.CatalogVersion = PlayFabJson.readString(in); break;
+                        case "CurrencyCode": value.CurrencyCode = PlayFabJson.readString(in); break;
+                        case "CustomTags": value.CustomTags = PlayFabJson.readMap(in, stringAdapter); break;
+                        case "PurchasePrice": value.PurchasePrice = PlayFabJson.readLong(in); break;
+                        case "Receipt": value.Receipt = PlayFabJson.readString(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class ValidateWindowsReceiptResultAdapter extends TypeAdapter<ValidateWindowsReceiptResult> {
+        private final TypeAdapter<PurchaseReceiptFulfillment> purchaseReceiptFulfillmentAdapter;
+
+        private ValidateWindowsReceiptResultAdapter(Gson gson) {
+            purchaseReceiptFulfillmentAdapter = gson.getAdapter(PurchaseReceiptFulfillment.class);
+        }
+
+        @Override
+        public void write(JsonWriter out, ValidateWindowsReceiptResult value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            PlayFabJson.writeList(out.name("Fulfillments"), value.Fulfillments, purchaseReceiptFulfillmentAdapter);
+            out.endObject();
+        }
+
+        @Override
+        public ValidateWindowsReceiptResult read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            ValidateWindowsReceiptResult value = new ValidateWindowsReceiptResult();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "Fulfillments": value.Fulfillments = PlayFabJson.readList(in, purchaseReceiptFulfillmentAdapter); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class ValueToDateModelAdapter extends TypeAdapter<ValueToDateModel> {
+        private ValueToDateModelAdapter(Gson gson) {
+        }
+
+        @Override
+        public void write(JsonWriter out, ValueToDateModel value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.name("Currency").value(value.Currency);
+            out.name("TotalValue").value(value.TotalValue);
+            out.name("TotalValueAsDecimal").value(value.TotalValueAsDecimal);
+            out.endObject();
+        }
+
+        @Override
+        public ValueToDateModel read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            ValueToDateModel value = new ValueToDateModel();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "Currency": value.Currency = PlayFabJson.readString(in); break;
+                        case "TotalValue": value.TotalValue = PlayFabJson.readLong(in); break;
+                        case "TotalValueAsDecimal": value.TotalValueAsDecimal = PlayFabJson.readString(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class VariableAdapter extends TypeAdapter<Variable> {
+        private VariableAdapter(Gson gson) {
+        }
+
+        @Override
+        public void write(JsonWriter out, Variable value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.name("Name").value(value.Name);
+            out.name("Value").value(value.Value);
+            out.endObject();
+        }
+
+        @Override
+        public Variable read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            Variable value = new Variable();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "Name": value.Name = PlayFabJson.readString(in); break;
+                        case "Value": value.Value = PlayFabJson.readString(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class VirtualCurrencyRechargeTimeAdapter extends TypeAdapter<VirtualCurrencyRechargeTime> {
+        private final TypeAdapter<Date> dateAdapter;
+
+        private VirtualCurrencyRechargeTimeAdapter(Gson gson) {
+            dateAdapter = gson.getAdapter(Date.class);
+        }
+
+        @Override
+        public void write(JsonWriter out, VirtualCurrencyRechargeTime value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.name("RechargeMax").value(value.RechargeMax);
+            dateAdapter.write(out.name("RechargeTime"), value.RechargeTime);
+            out.name("SecondsToRecharge").value(value.SecondsToRecharge);
+            out.endObject();
+        }
+
+        @Override
+        public VirtualCurrencyRechargeTime read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            VirtualCurrencyRechargeTime value = new VirtualCurrencyRechargeTime();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "RechargeMax": value.RechargeMax = PlayFabJson.readInteger(in); break;
+                        case "RechargeTime": value.RechargeTime = dateAdapter.read(in); break;
+                        case "SecondsToRecharge": value.SecondsToRecharge = PlayFabJson.readInteger(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class WriteClientCharacterEventRequestAdapter extends TypeAdapter<WriteClientCharacterEventRequest> {
+        private final TypeAdapter<Object> objectAdapter;
+        private final TypeAdapter<String> stringAdapter;
+        private final TypeAdapter<Date> dateAdapter;
+
+        private WriteClientCharacterEventRequestAdapter(Gson gson) {
+            objectAdapter = gson.getAdapter(Object.class);
+            stringAdapter = gson.getAdapter(String.class);
+            dateAdapter = gson.getAdapter(Date.class);
+        }
+
+        @Override
+        public void write(JsonWriter out, WriteClientCharacterEventRequest value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            PlayFabJson.writeMap(out.name("Body"), value.Body, objectAdapter);
+            out.name("CharacterId").value(value.CharacterId);
+            PlayFabJson.writeMap(out.name("CustomTags"), value.CustomTags, stringAdapter);
+            out.name("EventName").value(value.EventName);
+            dateAdapter.write(out.name("Timestamp"), value.Timestamp);
+            out.endObject();
+        }
+
+        @Override
+        public WriteClientCharacterEventRequest read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            WriteClientCharacterEventRequest value = new WriteClientCharacterEventRequest();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "Body": value.Body = PlayFabJson.readMap(in, objectAdapter); break;
+                        case "CharacterId": value.CharacterId = PlayFabJson.readString(in); break;
+                        case "CustomTags": value.CustomTags = PlayFabJson.readMap(in, stringAdapter); break;
+                        case "EventName": value.EventName = PlayFabJson.readString(in); break;
+                        case "Timestamp": value.Timestamp = dateAdapter.read(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class WriteClientPlayerEventRequestAdapter extends TypeAdapter<WriteClientPlayerEventRequest> {
+        private final TypeAdapter<Object> objectAdapter;
+        private final TypeAdapter<String> stringAdapter;
+        private final TypeAdapter<Date> dateAdapter;
+
+        private WriteClientPlayerEventRequestAdapter(Gson gson) {
+            objectAdapter = gson.getAdapter(Object.class);
+            stringAdapter = gson.getAdapter(String.class);
+            dateAdapter = gson.getAdapter(Date.class);
+        }
+
+        @Override
+        public void write(JsonWriter out, WriteClientPlayerEventRequest value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            PlayFabJson.writeMap(out.name("Body"), value.Body, objectAdapter);
+            PlayFabJson.writeMap(out.name("CustomTags"), value.CustomTags, stringAdapter);
+            out.name("EventName").value(value.EventName);
+            dateAdapter.write(out.name("Timestamp"), value.Timestamp);
+            out.endObject();
+        }
+
+        @Override
+        public WriteClientPlayerEventRequest read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            WriteClientPlayerEventRequest value = new WriteClientPlayerEventRequest();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "Body": value.Body = PlayFabJson.readMap(in, objectAdapter); break;
+                        case "CustomTags": value.CustomTags = PlayFabJson.readMap(in, stringAdapter); break;
+                        case "EventName": value.EventName = PlayFabJson.readString(in); break;
+                        case "Timestamp": value.Timestamp = dateAdapter.read(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class WriteEventResponseAdapter extends TypeAdapter<WriteEventResponse> {
+        private WriteEventResponseAdapter(Gson gson) {
+        }
+
+        @Override
+        public void write(JsonWriter out, WriteEventResponse value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.name("EventId").value(value.EventId);
+            out.endObject();
+        }
+
+        @Override
+        public WriteEventResponse read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            WriteEventResponse value = new WriteEventResponse();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "EventId": value.EventId = PlayFabJson.readString(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class WriteTitleEventRequestAdapter extends TypeAdapter<WriteTitleEventRequest> {
+        private final TypeAdapter<Object> objectAdapter;
+        private final TypeAdapter<String> stringAdapter;
+        private final TypeAdapter<Date> dateAdapter;
+
+        private WriteTitleEventRequestAdapter(Gson gson) {
+            objectAdapter = gson.getAdapter(Object.class);
+            stringAdapter = gson.getAdapter(String.class);
+            dateAdapter = gson.getAdapter(Date.class);
+        }
+
+        @Override
+        public void write(JsonWriter out, WriteTitleEventRequest value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            PlayFabJson.writeMap(out.name("Body"), value.Body, objectAdapter);
+            PlayFabJson.writeMap(out.name("CustomTags"), value.CustomTags, stringAdapter);
+            out.name("EventName").value(value.EventName);
+            dateAdapter.write(out.name("Timestamp"), value.Timestamp);
+            out.endObject();
+        }
+
+        @Override
+        public WriteTitleEventRequest read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            WriteTitleEventRequest value = new WriteTitleEventRequest();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "Body": value.Body = PlayFabJson.readMap(in, objectAdapter); break;
+                        case "CustomTags": value.CustomTags = PlayFabJson.readMap(in, stringAdapter); break;
+                        case "EventName": value.EventName = PlayFabJson.readString(in); break;
+                        case "Timestamp": value.Timestamp = dateAdapter.read(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class XboxLiveAccountPlayFabIdPairAdapter extends TypeAdapter<XboxLiveAccountPlayFabIdPair> {
+        private XboxLiveAccountPlayFabIdPairAdapter(Gson gson) {
+        }
+
+        @Override
+        public void write(JsonWriter out, XboxLiveAccountPlayFabIdPair value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.name("PlayFabId").value(value.PlayFabId);
+            out.name("XboxLiveAccountId").value(value.XboxLiveAccountId);
+            out.endObject();
+        }
+
+        @Override
+        public XboxLiveAccountPlayFabIdPair read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            XboxLiveAccountPlayFabIdPair value = new XboxLiveAccountPlayFabIdPair();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "PlayFabId": value.PlayFabId = PlayFabJson.readString(in); break;
+                        case "XboxLiveAccountId": value.XboxLiveAccountId = PlayFabJson.readString(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+}
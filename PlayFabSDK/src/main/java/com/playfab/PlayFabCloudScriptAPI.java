@@ -6,12 +6,10 @@ import com.playfab.PlayFabErrors.*;
 import com.playfab.PlayFabSettings;
 import java.util.concurrent.*;
 import java.util.*;
-import com.google.gson.*;
-import com.google.gson.reflect.*;
 
     /** API methods for executing CloudScript using an Entity Profile */
 public class PlayFabCloudScriptAPI {
-    private static Gson gson = new GsonBuilder().setDateFormat("yyyy-MM-dd'T'HH:mm:ss.SSS'Z'").create();
+    private static final Async async = new Async();
 
     /**
      * Cloud Script is one of PlayFab's most versatile features. It allows client code to request execution of any kind of
@@ -23,7 +21,7 @@ public class PlayFabCloudScriptAPI {
     public static FutureTask<PlayFabResult<ExecuteCloudScriptResult>> ExecuteEntityCloudScriptAsync(final ExecuteEntityCloudScriptRequest request) {
         return new FutureTask(new Callable<PlayFabResult<ExecuteCloudScriptResult>>() {
             public PlayFabResult<ExecuteCloudScriptResult> call() throws Exception {
-                return privateExecuteEntityCloudScriptAsync(request);
+                return privateExecuteEntityCloudScriptAsync(null, request);
             }
         });
     }
@@ -38,7 +36,7 @@ public class PlayFabCloudScriptAPI {
     public static PlayFabResult<ExecuteCloudScriptResult> ExecuteEntityCloudScript(final ExecuteEntityCloudScriptRequest request) {
         FutureTask<PlayFabResult<ExecuteCloudScriptResult>> task = new FutureTask(new Callable<PlayFabResult<ExecuteCloudScriptResult>>() {
             public PlayFabResult<ExecuteCloudScriptResult> call() throws Exception {
-                return privateExecuteEntityCloudScriptAsync(request);
+                return privateExecuteEntityCloudScriptAsync(null, request);
             }
         });
         try {
@@ -56,10 +54,12 @@ public class PlayFabCloudScriptAPI {
      * custom server-side functionality you can implement, and it can be used in conjunction with virtually anything.
      */
     @SuppressWarnings("unchecked")
-    private static PlayFabResult<ExecuteCloudScriptResult> privateExecuteEntityCloudScriptAsync(final ExecuteEntityCloudScriptRequest request) throws Exception {
-        if (PlayFabSettings.EntityToken == null) throw new Exception ("Must call GetEntityToken before you can use the Entity API");
+    static PlayFabResult<ExecuteCloudScriptResult> privateExecuteEntityCloudScriptAsync(final PlayFabInstanceAPI instance, final ExecuteEntityCloudScriptRequest request) throws Exception {
+        final PlayFabApiContext context = PlayFabInstanceAPI.contextOf(instance);
+        final String entityToken = context.getEntityToken();
+        if (entityToken == null) throw new Exception ("Must call GetEntityToken before you can use the Entity API");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/CloudScript/ExecuteEntityCloudScript"), request, "X-EntityToken", PlayFabSettings.EntityToken);
+        FutureTask<Object> task = PlayFabHTTP.doPost(context.getURL("/CloudScript/ExecuteEntityCloudScript"), request, "X-EntityToken", entityToken, ExecuteCloudScriptResult.class);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -70,9 +70,7 @@ public class PlayFabCloudScriptAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
-
-        PlayFabJsonSuccess<ExecuteCloudScriptResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<ExecuteCloudScriptResult>>(){}.getType());
+        PlayFabJsonSuccess<ExecuteCloudScriptResult> resultData = (PlayFabJsonSuccess<ExecuteCloudScriptResult>) httpResult;
         ExecuteCloudScriptResult result = resultData.data;
 
         PlayFabResult<ExecuteCloudScriptResult> pfResult = new PlayFabResult<ExecuteCloudScriptResult>();
@@ -90,7 +88,7 @@ public class PlayFabCloudScriptAPI {
     public static FutureTask<PlayFabResult<ExecuteFunctionResult>> ExecuteFunctionAsync(final ExecuteFunctionRequest request) {
         return new FutureTask(new Callable<PlayFabResult<ExecuteFunctionResult>>() {
             public PlayFabResult<ExecuteFunctionResult> call() throws Exception {
-                return privateExecuteFunctionAsync(request);
+                return privateExecuteFunctionAsync(null, request);
             }
         });
     }
@@ -105,7 +103,7 @@ public class PlayFabCloudScriptAPI {
     public static PlayFabResult<ExecuteFunctionResult> ExecuteFunction(final ExecuteFunctionRequest request) {
         FutureTask<PlayFabResult<ExecuteFunctionResult>> task = new FutureTask(new Callable<PlayFabResult<ExecuteFunctionResult>>() {
             public PlayFabResult<ExecuteFunctionResult> call() throws Exception {
-                return privateExecuteFunctionAsync(request);
+                return privateExecuteFunctionAsync(null, request);
             }
         });
         try {
@@ -123,10 +121,12 @@ public class PlayFabCloudScriptAPI {
      * custom server-side functionality you can implement, and it can be used in conjunction with virtually anything.
      */
     @SuppressWarnings("unchecked")
-    private static PlayFabResult<ExecuteFunctionResult> privateExecuteFunctionAsync(final ExecuteFunctionRequest request) throws Exception {
-        if (PlayFabSettings.EntityToken == null) throw new Exception ("Must call GetEntityToken before you can use the Entity API");
+    static PlayFabResult<ExecuteFunctionResult> privateExecuteFunctionAsync(final PlayFabInstanceAPI instance, final ExecuteFunctionRequest request) throws Exception {
+        final PlayFabApiContext context = PlayFabInstanceAPI.contextOf(instance);
+        final String entityToken = context.getEntityToken();
+        if (entityToken == null) throw new Exception ("Must call GetEntityToken before you can use the Entity API");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/CloudScript/ExecuteFunction"), request, "X-EntityToken", PlayFabSettings.EntityToken);
+        FutureTask<Object> task = PlayFabHTTP.doPost(context.getURL("/CloudScript/ExecuteFunction"), request, "X-EntityToken", entityToken, ExecuteFunctionResult.class);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -137,9 +137,7 @@ public class PlayFabCloudScriptAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
-
-        PlayFabJsonSuccess<ExecuteFunctionResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<ExecuteFunctionResult>>(){}.getType());
+        PlayFabJsonSuccess<ExecuteFunctionResult> resultData = (PlayFabJsonSuccess<ExecuteFunctionResult>) httpResult;
         ExecuteFunctionResult result = resultData.data;
 
         PlayFabResult<ExecuteFunctionResult> pfResult = new PlayFabResult<ExecuteFunctionResult>();
@@ -156,7 +154,7 @@ public class PlayFabCloudScriptAPI {
     public static FutureTask<PlayFabResult<GetFunctionResult>> GetFunctionAsync(final GetFunctionRequest request) {
         return new FutureTask(new Callable<PlayFabResult<GetFunctionResult>>() {
             public PlayFabResult<GetFunctionResult> call() throws Exception {
-                return privateGetFunctionAsync(request);
+                return privateGetFunctionAsync(null, request);
             }
         });
     }
@@ -170,7 +168,7 @@ public class PlayFabCloudScriptAPI {
     public static PlayFabResult<GetFunctionResult> GetFunction(final GetFunctionRequest request) {
         FutureTask<PlayFabResult<GetFunctionResult>> task = new FutureTask(new Callable<PlayFabResult<GetFunctionResult>>() {
             public PlayFabResult<GetFunctionResult> call() throws Exception {
-                return privateGetFunctionAsync(request);
+                return privateGetFunctionAsync(null, request);
             }
         });
         try {
@@ -185,10 +183,12 @@ public class PlayFabCloudScriptAPI {
 
     /** Gets registered Azure Functions for a given title id and function name. */
     @SuppressWarnings("unchecked")
-    private static PlayFabResult<GetFunctionResult> privateGetFunctionAsync(final GetFunctionRequest request) throws Exception {
-        if (PlayFabSettings.EntityToken == null) throw new Exception ("Must call GetEntityToken before you can use the Entity API");
+    static PlayFabResult<GetFunctionResult> privateGetFunctionAsync(final PlayFabInstanceAPI instance, final GetFunctionRequest request) throws Exception {
+        final PlayFabApiContext context = PlayFabInstanceAPI.contextOf(instance);
+        final String entityToken = context.getEntityToken();
+        if (entityToken == null) throw new Exception ("Must call GetEntityToken before you can use the Entity API");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/CloudScript/GetFunction"), request, "X-EntityToken", PlayFabSettings.EntityToken);
+        FutureTask<Object> task = PlayFabHTTP.doPost(context.getURL("/CloudScript/GetFunction"), request, "X-EntityToken", entityToken, GetFunctionResult.class);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -199,9 +199,7 @@ public class PlayFabCloudScriptAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
-
-        PlayFabJsonSuccess<GetFunctionResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<GetFunctionResult>>(){}.getType());
+        PlayFabJsonSuccess<GetFunctionResult> resultData = (PlayFabJsonSuccess<GetFunctionResult>) httpResult;
         GetFunctionResult result = resultData.data;
 
         PlayFabResult<GetFunctionResult> pfResult = new PlayFabResult<GetFunctionResult>();
@@ -218,7 +216,7 @@ public class PlayFabCloudScriptAPI {
     public static FutureTask<PlayFabResult<ListFunctionsResult>> ListFunctionsAsync(final ListFunctionsRequest request) {
         return new FutureTask(new Callable<PlayFabResult<ListFunctionsResult>>() {
             public PlayFabResult<ListFunctionsResult> call() throws Exception {
-                return privateListFunctionsAsync(request);
+                return privateListFunctionsAsync(null, request);
             }
         });
     }
@@ -232,7 +230,7 @@ public class PlayFabCloudScriptAPI {
     public static PlayFabResult<ListFunctionsResult> ListFunctions(final ListFunctionsRequest request) {
         FutureTask<PlayFabResult<ListFunctionsResult>> task = new FutureTask(new Callable<PlayFabResult<ListFunctionsResult>>() {
             public PlayFabResult<ListFunctionsResult> call() throws Exception {
-                return privateListFunctionsAsync(request);
+                return privateListFunctionsAsync(null, request);
             }
         });
         try {
@@ -247,10 +245,12 @@ public class PlayFabCloudScriptAPI {
 
     /** Lists all currently registered Azure Functions for a given title. */
     @SuppressWarnings("unchecked")
-    private static PlayFabResult<ListFunctionsResult> privateListFunctionsAsync(final ListFunctionsRequest request) throws Exception {
-        if (PlayFabSettings.EntityToken == null) throw new Exception ("Must call GetEntityToken before you can use the Entity API");
+    static PlayFabResult<ListFunctionsResult> privateListFunctionsAsync(final PlayFabInstanceAPI instance, final ListFunctionsRequest request) throws Exception {
+        final PlayFabApiContext context = PlayFabInstanceAPI.contextOf(instance);
+        final String entityToken = context.getEntityToken();
+        if (entityToken == null) throw new Exception ("Must call GetEntityToken before you can use the Entity API");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/CloudScript/ListFunctions"), request, "X-EntityToken", PlayFabSettings.EntityToken);
+        FutureTask<Object> task = PlayFabHTTP.doPost(context.getURL("/CloudScript/ListFunctions"), request, "X-EntityToken", entityToken, ListFunctionsResult.class);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -261,9 +261,7 @@ public class PlayFabCloudScriptAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
-
-        PlayFabJsonSuccess<ListFunctionsResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<ListFunctionsResult>>(){}.getType());
+        PlayFabJsonSuccess<ListFunctionsResult> resultData = (PlayFabJsonSuccess<ListFunctionsResult>) httpResult;
         ListFunctionsResult result = resultData.data;
 
         PlayFabResult<ListFunctionsResult> pfResult = new PlayFabResult<ListFunctionsResult>();
@@ -280,7 +278,7 @@ public class PlayFabCloudScriptAPI {
     public static FutureTask<PlayFabResult<ListHttpFunctionsResult>> ListHttpFunctionsAsync(final ListFunctionsRequest request) {
         return new FutureTask(new Callable<PlayFabResult<ListHttpFunctionsResult>>() {
             public PlayFabResult<ListHttpFunctionsResult> call() throws Exception {
-                return privateListHttpFunctionsAsync(request);
+                return privateListHttpFunctionsAsync(null, request);
             }
         });
     }
@@ -294,7 +292,7 @@ public class PlayFabCloudScriptAPI {
     public static PlayFabResult<ListHttpFunctionsResult> ListHttpFunctions(final ListFunctionsRequest request) {
         FutureTask<PlayFabResult<ListHttpFunctionsResult>> task = new FutureTask(new Callable<PlayFabResult<ListHttpFunctionsResult>>() {
             public PlayFabResult<ListHttpFunctionsResult> call() throws Exception {
-                return privateListHttpFunctionsAsync(request);
+                return privateListHttpFunctionsAsync(null, request);
             }
         });
         try {
@@ -309,10 +307,12 @@ public class PlayFabCloudScriptAPI {
 
     /** Lists all currently registered HTTP triggered Azure Functions for a given title. */
     @SuppressWarnings("unchecked")
-    private static PlayFabResult<ListHttpFunctionsResult> privateListHttpFunctionsAsync(final ListFunctionsRequest request) throws Exception {
-        if (PlayFabSettings.EntityToken == null) throw new Exception ("Must call GetEntityToken before you can use the Entity API");
+    static PlayFabResult<ListHttpFunctionsResult> privateListHttpFunctionsAsync(final PlayFabInstanceAPI instance, final ListFunctionsRequest request) throws Exception {
+        final PlayFabApiContext context = PlayFabInstanceAPI.contextOf(instance);
+        final String entityToken = context.getEntityToken();
+        if (entityToken == null) throw new Exception ("Must call GetEntityToken before you can use the Entity API");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/CloudScript/ListHttpFunctions"), request, "X-EntityToken", PlayFabSettings.EntityToken);
+        FutureTask<Object> task = PlayFabHTTP.doPost(context.getURL("/CloudScript/ListHttpFunctions"), request, "X-EntityToken", entityToken, ListHttpFunctionsResult.class);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -323,9 +323,7 @@ public class PlayFabCloudScriptAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
-
-        PlayFabJsonSuccess<ListHttpFunctionsResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<ListHttpFunctionsResult>>(){}.getType());
+        PlayFabJsonSuccess<ListHttpFunctionsResult> resultData = (PlayFabJsonSuccess<ListHttpFunctionsResult>) httpResult;
         ListHttpFunctionsResult result = resultData.data;
 
         PlayFabResult<ListHttpFunctionsResult> pfResult = new PlayFabResult<ListHttpFunctionsResult>();
@@ -342,7 +340,7 @@ public class PlayFabCloudScriptAPI {
     public static FutureTask<PlayFabResult<ListQueuedFunctionsResult>> ListQueuedFunctionsAsync(final ListFunctionsRequest request) {
         return new FutureTask(new Callable<PlayFabResult<ListQueuedFunctionsResult>>() {
             public PlayFabResult<ListQueuedFunctionsResult> call() throws Exception {
-                return privateListQueuedFunctionsAsync(request);
+                return privateListQueuedFunctionsAsync(null, request);
             }
         });
     }
@@ -356,7 +354,7 @@ public class PlayFabCloudScriptAPI {
     public static PlayFabResult<ListQueuedFunctionsResult> ListQueuedFunctions(final ListFunctionsRequest request) {
         FutureTask<PlayFabResult<ListQueuedFunctionsResult>> task = new FutureTask(new Callable<PlayFabResult<ListQueuedFunctionsResult>>() {
             public PlayFabResult<ListQueuedFunctionsResult> call() throws Exception {
-                return privateListQueuedFunctionsAsync(request);
+                return privateListQueuedFunctionsAsync(null, request);
             }
         });
         try {
@@ -371,10 +369,12 @@ public class PlayFabCloudScriptAPI {
 
     /** Lists all currently registered Queue triggered Azure Functions for a given title. */
     @SuppressWarnings("unchecked")
-    private static PlayFabResult<ListQueuedFunctionsResult> privateListQueuedFunctionsAsync(final ListFunctionsRequest request) throws Exception {
-        if (PlayFabSettings.EntityToken == null) throw new Exception ("Must call GetEntityToken before you can use the Entity API");
+    static PlayFabResult<ListQueuedFunctionsResult> privateListQueuedFunctionsAsync(final PlayFabInstanceAPI instance, final ListFunctionsRequest request) throws Exception {
+        final PlayFabApiContext context = PlayFabInstanceAPI.contextOf(instance);
+        final String entityToken = context.getEntityToken();
+        if (entityToken == null) throw new Exception ("Must call GetEntityToken before you can use the Entity API");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/CloudScript/ListQueuedFunctions"), request, "X-EntityToken", PlayFabSettings.EntityToken);
+        FutureTask<Object> task = PlayFabHTTP.doPost(context.getURL("/CloudScript/ListQueuedFunctions"), request, "X-EntityToken", entityToken, ListQueuedFunctionsResult.class);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -385,9 +385,7 @@ public class PlayFabCloudScriptAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
-
-        PlayFabJsonSuccess<ListQueuedFunctionsResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<ListQueuedFunctionsResult>>(){}.getType());
+        PlayFabJsonSuccess<ListQueuedFunctionsResult> resultData = (PlayFabJsonSuccess<ListQueuedFunctionsResult>) httpResult;
         ListQueuedFunctionsResult result = resultData.data;
 
         PlayFabResult<ListQueuedFunctionsResult> pfResult = new PlayFabResult<ListQueuedFunctionsResult>();
@@ -404,7 +402,7 @@ public class PlayFabCloudScriptAPI {
     public static FutureTask<PlayFabResult<EmptyResult>> PostFunctionResultForEntityTriggeredActionAsync(final PostFunctionResultForEntityTriggeredActionRequest request) {
         return new FutureTask(new Callable<PlayFabResult<EmptyResult>>() {
             public PlayFabResult<EmptyResult> call() throws Exception {
-                return privatePostFunctionResultForEntityTriggeredActionAsync(request);
+                return privatePostFunctionResultForEntityTriggeredActionAsync(null, request);
             }
         });
     }
@@ -418,7 +416,7 @@ public class PlayFabCloudScriptAPI {
     public static PlayFabResult<EmptyResult> PostFunctionResultForEntityTriggeredAction(final PostFunctionResultForEntityTriggeredActionRequest request) {
         FutureTask<PlayFabResult<EmptyResult>> task = new FutureTask(new Callable<PlayFabResult<EmptyResult>>() {
             public PlayFabResult<EmptyResult> call() throws Exception {
-                return privatePostFunctionResultForEntityTriggeredActionAsync(request);
+                return privatePostFunctionResultForEntityTriggeredActionAsync(null, request);
             }
         });
         try {
@@ -433,10 +431,12 @@ public class PlayFabCloudScriptAPI {
 
     /** Generate an entity PlayStream event for the provided function result. */
     @SuppressWarnings("unchecked")
-    private static PlayFabResult<EmptyResult> privatePostFunctionResultForEntityTriggeredActionAsync(final PostFunctionResultForEntityTriggeredActionRequest request) throws Exception {
-        if (PlayFabSettings.EntityToken == null) throw new Exception ("Must call GetEntityToken before you can use the Entity API");
+    static PlayFabResult<EmptyResult> privatePostFunctionResultForEntityTriggeredActionAsync(final PlayFabInstanceAPI instance, final PostFunctionResultForEntityTriggeredActionRequest request) throws Exception {
+        final PlayFabApiContext context = PlayFabInstanceAPI.contextOf(instance);
+        final String entityToken = context.getEntityToken();
+        if (entityToken == null) throw new Exception ("Must call GetEntityToken before you can use the Entity API");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/CloudScript/PostFunctionResultForEntityTriggeredAction"), request, "X-EntityToken", PlayFabSettings.EntityToken);
+        FutureTask<Object> task = PlayFabHTTP.doPost(context.getURL("/CloudScript/PostFunctionResultForEntityTriggeredAction"), request, "X-EntityToken", entityToken, EmptyResult.class);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -447,9 +447,7 @@ public class PlayFabCloudScriptAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
-
-        PlayFabJsonSuccess<EmptyResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<EmptyResult>>(){}.getType());
+        PlayFabJsonSuccess<EmptyResult> resultData = (PlayFabJsonSuccess<EmptyResult>) httpResult;
         EmptyResult result = resultData.data;
 
         PlayFabResult<EmptyResult> pfResult = new PlayFabResult<EmptyResult>();
@@ -466,7 +464,7 @@ public class PlayFabCloudScriptAPI {
     public static FutureTask<PlayFabResult<EmptyResult>> PostFunctionResultForFunctionExecutionAsync(final PostFunctionResultForFunctionExecutionRequest request) {
         return new FutureTask(new Callable<PlayFabResult<EmptyResult>>() {
             public PlayFabResult<EmptyResult> call() throws Exception {
-                return privatePostFunctionResultForFunctionExecutionAsync(request);
+                return privatePostFunctionResultForFunctionExecutionAsync(null, request);
             }
         });
     }
@@ -480,7 +478,7 @@ public class PlayFabCloudScriptAPI {
     public static PlayFabResult<EmptyResult> PostFunctionResultForFunctionExecution(final PostFunctionResultForFunctionExecutionRequest request) {
         FutureTask<PlayFabResult<EmptyResult>> task = new FutureTask(new Callable<PlayFabResult<EmptyResult>>() {
             public PlayFabResult<EmptyResult> call() throws Exception {
-                return privatePostFunctionResultForFunctionExecutionAsync(request);
+                return privatePostFunctionResultForFunctionExecutionAsync(null, request);
             }
         });
         try {
@@ -495,10 +493,12 @@ public class PlayFabCloudScriptAPI {
 
     /** Generate an entity PlayStream event for the provided function result. */
     @SuppressWarnings("unchecked")
-    private static PlayFabResult<EmptyResult> privatePostFunctionResultForFunctionExecutionAsync(final PostFunctionResultForFunctionExecutionRequest request) throws Exception {
-        if (PlayFabSettings.EntityToken == null) throw new Exception ("Must call GetEntityToken before you can use the Entity API");
+    static PlayFabResult<EmptyResult> privatePostFunctionResultForFunctionExecutionAsync(final PlayFabInstanceAPI instance, final PostFunctionResultForFunctionExecutionRequest request) throws Exception {
+        final PlayFabApiContext context = PlayFabInstanceAPI.contextOf(instance);
+        final String entityToken = context.getEntityToken();
+        if (entityToken == null) throw new Exception ("Must call GetEntityToken before you can use the Entity API");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/CloudScript/PostFunctionResultForFunctionExecution"), request, "X-EntityToken", PlayFabSettings.EntityToken);
+        FutureTask<Object> task = PlayFabHTTP.doPost(context.getURL("/CloudScript/PostFunctionResultForFunctionExecution"), request, "X-EntityToken", entityToken, EmptyResult.class);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -509,9 +509,7 @@ public class PlayFabCloudScriptAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
-
-        PlayFabJsonSuccess<EmptyResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<EmptyResult>>(){}.getType());
+        PlayFabJsonSuccess<EmptyResult> resultData = (PlayFabJsonSuccess<EmptyResult>) httpResult;
         EmptyResult result = resultData.data;
 
         PlayFabResult<EmptyResult> pfResult = new PlayFabResult<EmptyResult>();
@@ -528,7 +526,7 @@ public class PlayFabCloudScriptAPI {
     public static FutureTask<PlayFabResult<EmptyResult>> PostFunctionResultForPlayerTriggeredActionAsync(final PostFunctionResultForPlayerTriggeredActionRequest request) {
         return new FutureTask(new Callable<PlayFabResult<EmptyResult>>() {
             public PlayFabResult<EmptyResult> call() throws Exception {
-                return privatePostFunctionResultForPlayerTriggeredActionAsync(request);
+                return privatePostFunctionResultForPlayerTriggeredActionAsync(null, request);
             }
         });
     }
@@ -542,7 +540,7 @@ public class PlayFabCloudScriptAPI {
     public static PlayFabResult<EmptyResult> PostFunctionResultForPlayerTriggeredAction(final PostFunctionResultForPlayerTriggeredActionRequest request) {
         FutureTask<PlayFabResult<EmptyResult>> task = new FutureTask(new Callable<PlayFabResult<EmptyResult>>() {
             public PlayFabResult<EmptyResult> call() throws Exception {
-                return privatePostFunctionResultForPlayerTriggeredActionAsync(request);
+                return privatePostFunctionResultForPlayerTriggeredActionAsync(null, request);
             }
         });
         try {
@@ -557,10 +555,12 @@ public class PlayFabCloudScriptAPI {
 
     /** Generate a player PlayStream event for the provided function result. */
     @SuppressWarnings("unchecked")
-    private static PlayFabResult<EmptyResult> privatePostFunctionResultForPlayerTriggeredActionAsync(final PostFunctionResultForPlayerTriggeredActionRequest request) throws Exception {
-        if (PlayFabSettings.EntityToken == null) throw new Exception ("Must call GetEntityToken before you can use the Entity API");
+    static PlayFabResult<EmptyResult> privatePostFunctionResultForPlayerTriggeredActionAsync(final PlayFabInstanceAPI instance, final PostFunctionResultForPlayerTriggeredActionRequest request) throws Exception {
+        final PlayFabApiContext context = PlayFabInstanceAPI.contextOf(instance);
+        final String entityToken = context.getEntityToken();
+        if (entityToken == null) throw new Exception ("Must call GetEntityToken before you can use the Entity API");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/CloudScript/PostFunctionResultForPlayerTriggeredAction"), request, "X-EntityToken", PlayFabSettings.EntityToken);
+        FutureTask<Object> task = PlayFabHTTP.doPost(context.getURL("/CloudScript/PostFunctionResultForPlayerTriggeredAction"), request, "X-EntityToken", entityToken, EmptyResult.class);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -571,9 +571,7 @@ public class PlayFabCloudScriptAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
-
-        PlayFabJsonSuccess<EmptyResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<EmptyResult>>(){}.getType());
+        PlayFabJsonSuccess<EmptyResult> resultData = (PlayFabJsonSuccess<EmptyResult>) httpResult;
         EmptyResult result = resultData.data;
 
         PlayFabResult<EmptyResult> pfResult = new PlayFabResult<EmptyResult>();
@@ -590,7 +588,7 @@ public class PlayFabCloudScriptAPI {
     public static FutureTask<PlayFabResult<EmptyResult>> PostFunctionResultForScheduledTaskAsync(final PostFunctionResultForScheduledTaskRequest request) {
         return new FutureTask(new Callable<PlayFabResult<EmptyResult>>() {
             public PlayFabResult<EmptyResult> call() throws Exception {
-                return privatePostFunctionResultForScheduledTaskAsync(request);
+                return privatePostFunctionResultForScheduledTaskAsync(null, request);
             }
         });
     }
@@ -604,7 +602,7 @@ public class PlayFabCloudScriptAPI {
     public static PlayFabResult<EmptyResult> PostFunctionResultForScheduledTask(final PostFunctionResultForScheduledTaskRequest request) {
         FutureTask<PlayFabResult<EmptyResult>> task = new FutureTask(new Callable<PlayFabResult<EmptyResult>>() {
             public PlayFabResult<EmptyResult> call() throws Exception {
-                return privatePostFunctionResultForScheduledTaskAsync(request);
+                return privatePostFunctionResultForScheduledTaskAsync(null, request);
             }
         });
         try {
@@ -619,10 +617,12 @@ public class PlayFabCloudScriptAPI {
 
     /** Generate a PlayStream event for the provided function result. */
     @SuppressWarnings("unchecked")
-    private static PlayFabResult<EmptyResult> privatePostFunctionResultForScheduledTaskAsync(final PostFunctionResultForScheduledTaskRequest request) throws Exception {
-        if (PlayFabSettings.EntityToken == null) throw new Exception ("Must call GetEntityToken before you can use the Entity API");
+    static PlayFabResult<EmptyResult> privatePostFunctionResultForScheduledTaskAsync(final PlayFabInstanceAPI instance, final PostFunctionResultForScheduledTaskRequest request) throws Exception {
+        final PlayFabApiContext context = PlayFabInstanceAPI.contextOf(instance);
+        final String entityToken = context.getEntityToken();
+        if (entityToken == null) throw new Exception ("Must call GetEntityToken before you can use the Entity API");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/CloudScript/PostFunctionResultForScheduledTask"), request, "X-EntityToken", PlayFabSettings.EntityToken);
+        FutureTask<Object> task = PlayFabHTTP.doPost(context.getURL("/CloudScript/PostFunctionResultForScheduledTask"), request, "X-EntityToken", entityToken, EmptyResult.class);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -633,9 +633,7 @@ public class PlayFabCloudScriptAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
-
-        PlayFabJsonSuccess<EmptyResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<EmptyResult>>(){}.getType());
+        PlayFabJsonSuccess<EmptyResult> resultData = (PlayFabJsonSuccess<EmptyResult>) httpResult;
         EmptyResult result = resultData.data;
 
         PlayFabResult<EmptyResult> pfResult = new PlayFabResult<EmptyResult>();
@@ -652,7 +650,7 @@ public class PlayFabCloudScriptAPI {
     public static FutureTask<PlayFabResult<EmptyResult>> RegisterHttpFunctionAsync(final RegisterHttpFunctionRequest request) {
         return new FutureTask(new Callable<PlayFabResult<EmptyResult>>() {
             public PlayFabResult<EmptyResult> call() throws Exception {
-                return privateRegisterHttpFunctionAsync(request);
+                return privateRegisterHttpFunctionAsync(null, request);
             }
         });
     }
@@ -666,7 +664,7 @@ public class PlayFabCloudScriptAPI {
     public static PlayFabResult<EmptyResult> RegisterHttpFunction(final RegisterHttpFunctionRequest request) {
         FutureTask<PlayFabResult<EmptyResult>> task = new FutureTask(new Callable<PlayFabResult<EmptyResult>>() {
             public PlayFabResult<EmptyResult> call() throws Exception {
-                return privateRegisterHttpFunctionAsync(request);
+                return privateRegisterHttpFunctionAsync(null, request);
             }
         });
         try {
@@ -681,10 +679,12 @@ public class PlayFabCloudScriptAPI {
 
     /** Registers an HTTP triggered Azure function with a title. */
     @SuppressWarnings("unchecked")
-    private static PlayFabResult<EmptyResult> privateRegisterHttpFunctionAsync(final RegisterHttpFunctionRequest request) throws Exception {
-        if (PlayFabSettings.EntityToken == null) throw new Exception ("Must call GetEntityToken before you can use the Entity API");
+    static PlayFabResult<EmptyResult> privateRegisterHttpFunctionAsync(final PlayFabInstanceAPI instance, final RegisterHttpFunctionRequest request) throws Exception {
+        final PlayFabApiContext context = PlayFabInstanceAPI.contextOf(instance);
+        final String entityToken = context.getEntityToken();
+        if (entityToken == null) throw new Exception ("Must call GetEntityToken before you can use the Entity API");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/CloudScript/RegisterHttpFunction"), request, "X-EntityToken", PlayFabSettings.EntityToken);
+        FutureTask<Object> task = PlayFabHTTP.doPost(context.getURL("/CloudScript/RegisterHttpFunction"), request, "X-EntityToken", entityToken, EmptyResult.class);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -695,9 +695,7 @@ public class PlayFabCloudScriptAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
-
-        PlayFabJsonSuccess<EmptyResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<EmptyResult>>(){}.getType());
+        PlayFabJsonSuccess<EmptyResult> resultData = (PlayFabJsonSuccess<EmptyResult>) httpResult;
         EmptyResult result = resultData.data;
 
         PlayFabResult<EmptyResult> pfResult = new PlayFabResult<EmptyResult>();
@@ -714,7 +712,7 @@ public class PlayFabCloudScriptAPI {
     public static FutureTask<PlayFabResult<EmptyResult>> RegisterQueuedFunctionAsync(final RegisterQueuedFunctionRequest request) {
         return new FutureTask(new Callable<PlayFabResult<EmptyResult>>() {
             public PlayFabResult<EmptyResult> call() throws Exception {
-                return privateRegisterQueuedFunctionAsync(request);
+                return privateRegisterQueuedFunctionAsync(null, request);
             }
         });
     }
@@ -728,7 +726,7 @@ public class PlayFabCloudScriptAPI {
     public static PlayFabResult<EmptyResult> RegisterQueuedFunction(final RegisterQueuedFunctionRequest request) {
         FutureTask<PlayFabResult<EmptyResult>> task = new FutureTask(new Callable<PlayFabResult<EmptyResult>>() {
             public PlayFabResult<EmptyResult> call() throws Exception {
-                return privateRegisterQueuedFunctionAsync(request);
+                return privateRegisterQueuedFunctionAsync(null, request);
             }
         });
         try {
@@ -743,10 +741,12 @@ public class PlayFabCloudScriptAPI {
 
     /** Registers a queue triggered Azure Function with a title. */
     @SuppressWarnings("unchecked")
-    private static PlayFabResult<EmptyResult> privateRegisterQueuedFunctionAsync(final RegisterQueuedFunctionRequest request) throws Exception {
-        if (PlayFabSettings.EntityToken == null) throw new Exception ("Must call GetEntityToken before you can use the Entity API");
+    static PlayFabResult<EmptyResult> privateRegisterQueuedFunctionAsync(final PlayFabInstanceAPI instance, final RegisterQueuedFunctionRequest request) throws Exception {
+        final PlayFabApiContext context = PlayFabInstanceAPI.contextOf(instance);
+        final String entityToken = context.getEntityToken();
+        if (entityToken == null) throw new Exception ("Must call GetEntityToken before you can use the Entity API");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/CloudScript/RegisterQueuedFunction"), request, "X-EntityToken", PlayFabSettings.EntityToken);
+        FutureTask<Object> task = PlayFabHTTP.doPost(context.getURL("/CloudScript/RegisterQueuedFunction"), request, "X-EntityToken", entityToken, EmptyResult.class);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -757,9 +757,7 @@ public class PlayFabCloudScriptAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
-
-        PlayFabJsonSuccess<EmptyResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<EmptyResult>>(){}.getType());
+        PlayFabJsonSuccess<EmptyResult> resultData = (PlayFabJsonSuccess<EmptyResult>) httpResult;
         EmptyResult result = resultData.data;
 
         PlayFabResult<EmptyResult> pfResult = new PlayFabResult<EmptyResult>();
@@ -776,7 +774,7 @@ public class PlayFabCloudScriptAPI {
     public static FutureTask<PlayFabResult<EmptyResult>> UnregisterFunctionAsync(final UnregisterFunctionRequest request) {
         return new FutureTask(new Callable<PlayFabResult<EmptyResult>>() {
             public PlayFabResult<EmptyResult> call() throws Exception {
-                return privateUnregisterFunctionAsync(request);
+                return privateUnregisterFunctionAsync(null, request);
             }
         });
     }
@@ -790,7 +788,7 @@ public class PlayFabCloudScriptAPI {
     public static PlayFabResult<EmptyResult> UnregisterFunction(final UnregisterFunctionRequest request) {
         FutureTask<PlayFabResult<EmptyResult>> task = new FutureTask(new Callable<PlayFabResult<EmptyResult>>() {
             public PlayFabResult<EmptyResult> call() throws Exception {
-                return privateUnregisterFunctionAsync(request);
+                return privateUnregisterFunctionAsync(null, request);
             }
         });
         try {
@@ -805,10 +803,12 @@ public class PlayFabCloudScriptAPI {
 
     /** Unregisters an Azure Function with a title. */
     @SuppressWarnings("unchecked")
-    private static PlayFabResult<EmptyResult> privateUnregisterFunctionAsync(final UnregisterFunctionRequest request) throws Exception {
-        if (PlayFabSettings.EntityToken == null) throw new Exception ("Must call GetEntityToken before you can use the Entity API");
+    static PlayFabResult<EmptyResult> privateUnregisterFunctionAsync(final PlayFabInstanceAPI instance, final UnregisterFunctionRequest request) throws Exception {
+        final PlayFabApiContext context = PlayFabInstanceAPI.contextOf(instance);
+        final String entityToken = context.getEntityToken();
+        if (entityToken == null) throw new Exception ("Must call GetEntityToken before you can use the Entity API");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/CloudScript/UnregisterFunction"), request, "X-EntityToken", PlayFabSettings.EntityToken);
+        FutureTask<Object> task = PlayFabHTTP.doPost(context.getURL("/CloudScript/UnregisterFunction"), request, "X-EntityToken", entityToken, EmptyResult.class);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -819,9 +819,7 @@ public class PlayFabCloudScriptAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
-
-        PlayFabJsonSuccess<EmptyResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<EmptyResult>>(){}.getType());
+        PlayFabJsonSuccess<EmptyResult> resultData = (PlayFabJsonSuccess<EmptyResult>) httpResult;
         EmptyResult result = resultData.data;
 
         PlayFabResult<EmptyResult> pfResult = new PlayFabResult<EmptyResult>();
@@ -829,4 +827,189 @@ public class PlayFabCloudScriptAPI {
         return pfResult;
     }
 
+    /**
+     * @return Non-blocking versions of every PlayFabCloudScriptAPI call, started on PlayFabSettings.AsyncExecutor
+     */
+    public static Async async() {
+        return async;
+    }
+
+    /**
+     * Non-blocking versions of the PlayFabCloudScriptAPI calls. Each call is already running when its PlayFabFuture is returned.
+     */
+    public static class Async {
+        private Async() {
+        }
+
+        /**
+         * Cloud Script is one of PlayFab's most versatile features. It allows client code to request execution of any kind of
+         * custom server-side functionality you can implement, and it can be used in conjunction with virtually anything.
+         * @param request ExecuteEntityCloudScriptRequest
+         * @return Running future that will complete with ExecuteCloudScriptResult
+         */
+        public PlayFabFuture<PlayFabResult<ExecuteCloudScriptResult>> ExecuteEntityCloudScript(final ExecuteEntityCloudScriptRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<ExecuteCloudScriptResult>>() {
+                public PlayFabResult<ExecuteCloudScriptResult> call() throws Exception {
+                    return privateExecuteEntityCloudScriptAsync(null, request);
+                }
+            });
+        }
+
+        /**
+         * Cloud Script is one of PlayFab's most versatile features. It allows client code to request execution of any kind of
+         * custom server-side functionality you can implement, and it can be used in conjunction with virtually anything.
+         * @param request ExecuteFunctionRequest
+         * @return Running future that will complete with ExecuteFunctionResult
+         */
+        public PlayFabFuture<PlayFabResult<ExecuteFunctionResult>> ExecuteFunction(final ExecuteFunctionRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<ExecuteFunctionResult>>() {
+                public PlayFabResult<ExecuteFunctionResult> call() throws Exception {
+                    return privateExecuteFunctionAsync(null, request);
+                }
+            });
+        }
+
+        /**
+         * Gets registered Azure Functions for a given title id and function name.
+         * @param request GetFunctionRequest
+         * @return Running future that will complete with GetFunctionResult
+         */
+        public PlayFabFuture<PlayFabResult<GetFunctionResult>> GetFunction(final GetFunctionRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<GetFunctionResult>>() {
+                public PlayFabResult<GetFunctionResult> call() throws Exception {
+                    return privateGetFunctionAsync(null, request);
+                }
+            });
+        }
+
+        /**
+         * Lists all currently registered Azure Functions for a given title.
+         * @param request ListFunctionsRequest
+         * @return Running future that will complete with ListFunctionsResult
+         */
+        public PlayFabFuture<PlayFabResult<ListFunctionsResult>> ListFunctions(final ListFunctionsRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<ListFunctionsResult>>() {
+                public PlayFabResult<ListFunctionsResult> call() throws Exception {
+                    return privateListFunctionsAsync(null, request);
+                }
+            });
+        }
+
+        /**
+         * Lists all currently registered HTTP triggered Azure Functions for a given title.
+         * @param request ListFunctionsRequest
+         * @return Running future that will complete with ListHttpFunctionsResult
+         */
+        public PlayFabFuture<PlayFabResult<ListHttpFunctionsResult>> ListHttpFunctions(final ListFunctionsRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<ListHttpFunctionsResult>>() {
+                public PlayFabResult<ListHttpFunctionsResult> call() throws Exception {
+                    return privateListHttpFunctionsAsync(null, request);
+                }
+            });
+        }
+
+        /**
+         * Lists all currently registered Queue triggered Azure Functions for a given title.
+         * @param request ListFunctionsRequest
+         * @return Running future that will complete with ListQueuedFunctionsResult
+         */
+        public PlayFabFuture<PlayFabResult<ListQueuedFunctionsResult>> ListQueuedFunctions(final ListFunctionsRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<ListQueuedFunctionsResult>>() {
+                public PlayFabResult<ListQueuedFunctionsResult> call() throws Exception {
+                    return privateListQueuedFunctionsAsync(null, request);
+                }
+            });
+        }
+
+        /**
+         * Generate an entity PlayStream event for the provided function result.
+         * @param request PostFunctionResultForEntityTriggeredActionRequest
+         * @return Running future that will complete with EmptyResult
+         */
+        public PlayFabFuture<PlayFabResult<EmptyResult>> PostFunctionResultForEntityTriggeredAction(final PostFunctionResultForEntityTriggeredActionRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<EmptyResult>>() {
+                public PlayFabResult<EmptyResult> call() throws Exception {
+                    return privatePostFunctionResultForEntityTriggeredActionAsync(null, request);
+                }
+            });
+        }
+
+        /**
+         * Generate an entity PlayStream event for the provided function result.
+         * @param request PostFunctionResultForFunctionExecutionRequest
+         * @return Running future that will complete with EmptyResult
+         */
+        public PlayFabFuture<PlayFabResult<EmptyResult>> PostFunctionResultForFunctionExecution(final PostFunctionResultForFunctionExecutionRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<EmptyResult>>() {
+                public PlayFabResult<EmptyResult> call() throws Exception {
+                    return privatePostFunctionResultForFunctionExecutionAsync(null, request);
+                }
+            });
+        }
+
+        /**
+         * Generate a player PlayStream event for the provided function result.
+         * @param request PostFunctionResultForPlayerTriggeredActionRequest
+         * @return Running future that will complete with EmptyResult
+         */
+        public PlayFabFuture<PlayFabResult<EmptyResult>> PostFunctionResultForPlayerTriggeredAction(final PostFunctionResultForPlayerTriggeredActionRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<EmptyResult>>() {
+                public PlayFabResult<EmptyResult> call() throws Exception {
+                    return privatePostFunctionResultForPlayerTriggeredActionAsync(null, request);
+                }
+            });
+        }
+
+        /**
+         * Generate a PlayStream event for the provided function result.
+         * @param request PostFunctionResultForScheduledTaskRequest
+         * @return Running future that will complete with EmptyResult
+         */
+        public PlayFabFuture<PlayFabResult<EmptyResult>> PostFunctionResultForScheduledTask(final PostFunctionResultForScheduledTaskRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<EmptyResult>>() {
+                public PlayFabResult<EmptyResult> call() throws Exception {
+                    return privatePostFunctionResultForScheduledTaskAsync(null, request);
+                }
+            });
+        }
+
+        /**
+         * Registers an HTTP triggered Azure function with a title.
+         * @param request RegisterHttpFunctionRequest
+         * @return Running future that will complete with EmptyResult
+         */
+        public PlayFabFuture<PlayFabResult<EmptyResult>> RegisterHttpFunction(final RegisterHttpFunctionRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<EmptyResult>>() {
+                public PlayFabResult<EmptyResult> call() throws Exception {
+                    return privateRegisterHttpFunctionAsync(null, request);
+                }
+            });
+        }
+
+        /**
+         * Registers a queue triggered Azure Function with a title.
+         * @param request RegisterQueuedFunctionRequest
+         * @return Running future that will complete with EmptyResult
+         */
+        public PlayFabFuture<PlayFabResult<EmptyResult>> RegisterQueuedFunction(final RegisterQueuedFunctionRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<EmptyResult>>() {
+                public PlayFabResult<EmptyResult> call() throws Exception {
+                    return privateRegisterQueuedFunctionAsync(null, request);
+                }
+            });
+        }
+
+        /**
+         * Unregisters an Azure Function with a title.
+         * @param request UnregisterFunctionRequest
+         * @return Running future that will complete with EmptyResult
+         */
+        public PlayFabFuture<PlayFabResult<EmptyResult>> UnregisterFunction(final UnregisterFunctionRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<EmptyResult>>() {
+                public PlayFabResult<EmptyResult> call() throws Exception {
+                    return privateUnregisterFunctionAsync(null, request);
+                }
+            });
+        }
+    }
 }
@@ -0,0 +1,403 @@
+package com.playfab;
+
+import com.playfab.internal.*;
+import com.playfab.PlayFabCloudScriptModels.*;
+import com.playfab.PlayFabErrors.*;
+import com.playfab.PlayFabSettings;
+import java.util.concurrent.*;
+import java.util.*;
+
+    /**
+     * The calls of PlayFabCloudScriptAPI, made with a PlayFabApiContext of this object's own instead of PlayFabSettings. Login
+     * and GetEntityToken calls keep the credentials they return in that context
+     */
+public class PlayFabCloudScriptInstanceAPI extends PlayFabInstanceAPI {
+    private final Async async = new Async();
+
+    public PlayFabCloudScriptInstanceAPI(PlayFabApiContext context) {
+        super(context);
+    }
+
+    /**
+     * Cloud Script is one of PlayFab's most versatile features. It allows client code to request execution of any kind of
+     * custom server-side functionality you can implement, and it can be used in conjunction with virtually anything.
+     * @param request ExecuteEntityCloudScriptRequest
+     * @return ExecuteCloudScriptResult
+     */
+    public PlayFabResult<ExecuteCloudScriptResult> ExecuteEntityCloudScript(final ExecuteEntityCloudScriptRequest request) {
+        try {
+            return PlayFabCloudScriptAPI.privateExecuteEntityCloudScriptAsync(this, request);
+        } catch(Exception e) {
+            PlayFabResult<ExecuteCloudScriptResult> exceptionResult = new PlayFabResult<ExecuteCloudScriptResult>();
+            exceptionResult.Error = PlayFabHTTP.GeneratePfError(-1, PlayFabErrorCode.Unknown, e.getMessage(), null, null);
+            return exceptionResult;
+        }
+    }
+
+    /**
+     * Cloud Script is one of PlayFab's most versatile features. It allows client code to request execution of any kind of
+     * custom server-side functionality you can implement, and it can be used in conjunction with virtually anything.
+     * @param request ExecuteFunctionRequest
+     * @return ExecuteFunctionResult
+     */
+    public PlayFabResult<ExecuteFunctionResult> ExecuteFunction(final ExecuteFunctionRequest request) {
+        try {
+            return PlayFabCloudScriptAPI.privateExecuteFunctionAsync(this, request);
+        } catch(Exception e) {
+            PlayFabResult<ExecuteFunctionResult> exceptionResult = new PlayFabResult<ExecuteFunctionResult>();
+            exceptionResult.Error = PlayFabHTTP.GeneratePfError(-1, PlayFabErrorCode.Unknown, e.getMessage(), null, null);
+            return exceptionResult;
+        }
+    }
+
+    /**
+     * Gets registered Azure Functions for a given title id and function name.
+     * @param request GetFunctionRequest
+     * @return GetFunctionResult
+     */
+    public PlayFabResult<GetFunctionResult> GetFunction(final GetFunctionRequest request) {
+        try {
+            return PlayFabCloudScriptAPI.privateGetFunctionAsync(this, request);
+        } catch(Exception e) {
+            PlayFabResult<GetFunctionResult> exceptionResult = new PlayFabResult<GetFunctionResult>();
+            exceptionResult.Error = PlayFabHTTP.GeneratePfError(-1, PlayFabErrorCode.Unknown, e.getMessage(), null, null);
+            return exceptionResult;
+        }
+    }
+
+    /**
+     * Lists all currently registered Azure Functions for a given title.
+     * @param request ListFunctionsRequest
+     * @return ListFunctionsResult
+     */
+    public PlayFabResult<ListFunctionsResult> ListFunctions(final ListFunctionsRequest request) {
+        try {
+            return PlayFabCloudScriptAPI.privateListFunctionsAsync(this, request);
+        } catch(Exception e) {
+            PlayFabResult<ListFunctionsResult> exceptionResult = new PlayFabResult<ListFunctionsResult>();
+            exceptionResult.Error = PlayFabHTTP.GeneratePfError(-1, PlayFabErrorCode.Unknown, e.getMessage(), null, null);
+            return exceptionResult;
+        }
+    }
+
+    /**
+     * Lists all currently registered HTTP triggered Azure Functions for a given title.
+     * @param request ListFunctionsRequest
+     * @return ListHttpFunctionsResult
+     */
+    public PlayFabResult<ListHttpFunctionsResult> ListHttpFunctions(final ListFunctionsRequest request) {
+        try {
+            return PlayFabCloudScriptAPI.privateListHttpFunctionsAsync(this, request);
+        } catch(Exception e) {
+            PlayFabResult<ListHttpFunctionsResult> exceptionResult = new PlayFabResult<ListHttpFunctionsResult>();
+            exceptionResult.Error = PlayFabHTTP.GeneratePfError(-1, PlayFabErrorCode.Unknown, e.getMessage(), null, null);
+            return exceptionResult;
+        }
+    }
+
+    /**
+     * Lists all currently registered Queue triggered Azure Functions for a given title.
+     * @param request ListFunctionsRequest
+     * @return ListQueuedFunctionsResult
+     */
+    public PlayFabResult<ListQueuedFunctionsResult> ListQueuedFunctions(final ListFunctionsRequest request) {
+        try {
+            return PlayFabCloudScriptAPI.privateListQueuedFunctionsAsync(this, request);
+        } catch(Exception e) {
+            PlayFabResult<ListQueuedFunctionsResult> exceptionResult = new PlayFabResult<ListQueuedFunctionsResult>();
+            exceptionResult.Error = PlayFabHTTP.GeneratePfError(-1, PlayFabErrorCode.Unknown, e.getMessage(), null, null);
+            return exceptionResult;
+        }
+    }
+
+    /**
+     * Generate an entity PlayStream event for the provided function result.
+     * @param request PostFunctionResultForEntityTriggeredActionRequest
+     * @return EmptyResult
+     */
+    public PlayFabResult<EmptyResult> PostFunctionResultForEntityTriggeredAction(final PostFunctionResultForEntityTriggeredActionRequest request) {
+        try {
+            return PlayFabCloudScriptAPI.privatePostFunctionResultForEntityTriggeredActionAsync(this, request);
+        } catch(Exception e) {
+            PlayFabResult<EmptyResult> exceptionResult = new PlayFabResult<EmptyResult>();
+            exceptionResult.Error = PlayFabHTTP.GeneratePfError(-1, PlayFabErrorCode.Unknown, e.getMessage(), null, null);
+            return exceptionResult;
+        }
+    }
+
+    /**
+     * Generate an entity PlayStream event for the provided function result.
+     * @param request PostFunctionResultForFunctionExecutionRequest
+     * @return EmptyResult
+     */
+    public PlayFabResult<EmptyResult> PostFunctionResultForFunctionExecution(final PostFunctionResultForFunctionExecutionRequest request) {
+        try {
+            return PlayFabCloudScriptAPI.privatePostFunctionResultForFunctionExecutionAsync(this, request);
+        } catch(Exception e) {
+            PlayFabResult<EmptyResult> exceptionResult = new PlayFabResult<EmptyResult>();
+            exceptionResult.Error = PlayFabHTTP.GeneratePfError(-1, PlayFabErrorCode.Unknown, e.getMessage(), null, null);
+            return exceptionResult;
+        }
+    }
+
+    /**
+     * Generate a player PlayStream event for the provided function result.
+     * @param request PostFunctionResultForPlayerTriggeredActionRequest
+     * @return EmptyResult
+     */
+    public PlayFabResult<EmptyResult> PostFunctionResultForPlayerTriggeredAction(final PostFunctionResultForPlayerTriggeredActionRequest request) {
+        try {
+            return PlayFabCloudScriptAPI.privatePostFunctionResultForPlayerTriggeredActionAsync(this, request);
+        } catch(Exception e) {
+            PlayFabResult<EmptyResult> exceptionResult = new PlayFabResult<EmptyResult>();
+            exceptionResult.Error = PlayFabHTTP.GeneratePfError(-1, PlayFabErrorCode.Unknown, e.getMessage(), null, null);
+            return exceptionResult;
+        }
+    }
+
+    /**
+     * Generate a PlayStream event for the provided function result.
+     * @param request PostFunctionResultForScheduledTaskRequest
+     * @return EmptyResult
+     */
+    public PlayFabResult<EmptyResult> PostFunctionResultForScheduledTask(final PostFunctionResultForScheduledTaskRequest request) {
+        try {
+            return PlayFabCloudScriptAPI.privatePostFunctionResultForScheduledTaskAsync(this, request);
+        } catch(Exception e) {
+            PlayFabResult<EmptyResult> exceptionResult = new PlayFabResult<EmptyResult>();
+            exceptionResult.Error = PlayFabHTTP.GeneratePfError(-1, PlayFabErrorCode.Unknown, e.getMessage(), null, null);
+            return exceptionResult;
+        }
+    }
+
+    /**
+     * Registers an HTTP triggered Azure function with a title.
+     * @param request RegisterHttpFunctionRequest
+     * @return EmptyResult
+     */
+    public PlayFabResult<EmptyResult> RegisterHttpFunction(final RegisterHttpFunctionRequest request) {
+        try {
+            return PlayFabCloudScriptAPI.privateRegisterHttpFunctionAsync(this, request);
+        } catch(Exception e) {
+            PlayFabResult<EmptyResult> exceptionResult = new PlayFabResult<EmptyResult>();
+            exceptionResult.Error = PlayFabHTTP.GeneratePfError(-1, PlayFabErrorCode.Unknown, e.getMessage(), null, null);
+            return exceptionResult;
+        }
+    }
+
+    /**
+     * Registers a queue triggered Azure Function with a title.
+     * @param request RegisterQueuedFunctionRequest
+     * @return EmptyResult
+     */
+    public PlayFabResult<EmptyResult> RegisterQueuedFunction(final RegisterQueuedFunctionRequest request) {
+        try {
+            return PlayFabCloudScriptAPI.privateRegisterQueuedFunctionAsync(this, request);
+        } catch(Exception e) {
+            PlayFabResult<EmptyResult> exceptionResult = new PlayFabResult<EmptyResult>();
+            exceptionResult.Error = PlayFabHTTP.GeneratePfError(-1, PlayFabErrorCode.Unknown, e.getMessage(), null, null);
+            return exceptionResult;
+        }
+    }
+
+    /**
+     * Unregisters an Azure Function with a title.
+     * @param request UnregisterFunctionRequest
+     * @return EmptyResult
+     */
+    public PlayFabResult<EmptyResult> UnregisterFunction(final UnregisterFunctionRequest request) {
+        try {
+            return PlayFabCloudScriptAPI.privateUnregisterFunctionAsync(this, request);
+        } catch(Exception e) {
+            PlayFabResult<EmptyResult> exceptionResult = new PlayFabResult<EmptyResult>();
+            exceptionResult.Error = PlayFabHTTP.GeneratePfError(-1, PlayFabErrorCode.Unknown, e.getMessage(), null, null);
+            return exceptionResult;
+        }
+    }
+
+    /**
+     * @return Non-blocking versions of every call, made with this object's context and started on PlayFabSettings.AsyncExecutor
+     */
+    public Async async() {
+        return async;
+    }
+
+    /**
+     * Non-blocking versions of the PlayFabCloudScriptInstanceAPI calls. Each call is already running when its PlayFabFuture is returned.
+     */
+    public class Async {
+        private Async() {
+        }
+
+        /**
+         * Cloud Script is one of PlayFab's most versatile features. It allows client code to request execution of any kind of
+         * custom server-side functionality you can implement, and it can be used in conjunction with virtually anything.
+         * @param request ExecuteEntityCloudScriptRequest
+         * @return Running future that will complete with ExecuteCloudScriptResult
+         */
+        public PlayFabFuture<PlayFabResult<ExecuteCloudScriptResult>> ExecuteEntityCloudScript(final ExecuteEntityCloudScriptRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<ExecuteCloudScriptResult>>() {
+                public PlayFabResult<ExecuteCloudScriptResult> call() throws Exception {
+                    return PlayFabCloudScriptAPI.privateExecuteEntityCloudScriptAsync(PlayFabCloudScriptInstanceAPI.this, request);
+                }
+            });
+        }
+
+        /**
+         * Cloud Script is one of PlayFab's most versatile features. It allows client code to request execution of any kind of
+         * custom server-side functionality you can implement, and it can be used in conjunction with virtually anything.
+         * @param request ExecuteFunctionRequest
+         * @return Running future that will complete with ExecuteFunctionResult
+         */
+        public PlayFabFuture<PlayFabResult<ExecuteFunctionResult>> ExecuteFunction(final ExecuteFunctionRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<ExecuteFunctionResult>>() {
+                public PlayFabResult<ExecuteFunctionResult> call() throws Exception {
+                    return PlayFabCloudScriptAPI.privateExecuteFunctionAsync(PlayFabCloudScriptInstanceAPI.this, request);
+                }
+            });
+        }
+
+        /**
+         * Gets registered Azure Functions for a given title id and function name.
+         * @param request GetFunctionRequest
+         * @return Running future that will complete with GetFunctionResult
+         */
+        public PlayFabFuture<PlayFabResult<GetFunctionResult>> GetFunction(final GetFunctionRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<GetFunctionResult>>() {
+                public PlayFabResult<GetFunctionResult> call() throws Exception {
+                    return PlayFabCloudScriptAPI.privateGetFunctionAsync(PlayFabCloudScriptInstanceAPI.this, request);
+                }
+            });
+        }
+
+        /**
+         * Lists all currently registered Azure Functions for a given title.
+         * @param request ListFunctionsRequest
+         * @return Running future that will complete with ListFunctionsResult
+         */
+        public PlayFabFuture<PlayFabResult<ListFunctionsResult>> ListFunctions(final ListFunctionsRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<ListFunctionsResult>>() {
+                public PlayFabResult<ListFunctionsResult> call() throws Exception {
+                    return PlayFabCloudScriptAPI.privateListFunctionsAsync(PlayFabCloudScriptInstanceAPI.this, request);
+                }
+            });
+        }
+
+        /**
+         * Lists all currently registered HTTP triggered Azure Functions for a given title.
+         * @param request ListFunctionsRequest
+         * @return Running future that will complete with ListHttpFunctionsResult
+         */
+        public PlayFabFuture<PlayFabResult<ListHttpFunctionsResult>> ListHttpFunctions(final ListFunctionsRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<ListHttpFunctionsResult>>() {
+                public PlayFabResult<ListHttpFunctionsResult> call() throws Exception {
+                    return PlayFabCloudScriptAPI.privateListHttpFunctionsAsync(PlayFabCloudScriptInstanceAPI.this, request);
+                }
+            });
+        }
+
+        /**
+         * Lists all currently registered Queue triggered Azure Functions for a given title.
+         * @param request ListFunctionsRequest
+         * @return Running future that will complete with ListQueuedFunctionsResult
+         */
+        public PlayFabFuture<PlayFabResult<ListQueuedFunctionsResult>> ListQueuedFunctions(final ListFunctionsRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<ListQueuedFunctionsResult>>() {
+                public PlayFabResult<ListQueuedFunctionsResult> call() throws Exception {
+                    return PlayFabCloudScriptAPI.privateListQueuedFunctionsAsync(PlayFabCloudScriptInstanceAPI.this, request);
+                }
+            });
+        }
+
+        /**
+         * Generate an entity PlayStream event for the provided function result.
+         * @param request PostFunctionResultForEntityTriggeredActionRequest
+         * @return Running future that will complete with EmptyResult
+         */
+        public PlayFabFuture<PlayFabResult<EmptyResult>> PostFunctionResultForEntityTriggeredAction(final PostFunctionResultForEntityTriggeredActionRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<EmptyResult>>() {
+                public PlayFabResult<EmptyResult> call() throws Exception {
+                    return PlayFabCloudScriptAPI.privatePostFunctionResultForEntityTriggeredActionAsync(PlayFabCloudScriptInstanceAPI.this, request);
+                }
+            });
+        }
+
+        /**
+         * Generate an entity PlayStream event for the provided function result.
+         * @param request PostFunctionResultForFunctionExecutionRequest
+         * @return Running future that will complete with EmptyResult
+         */
+        public PlayFabFuture<PlayFabResult<EmptyResult>> PostFunctionResultForFunctionExecution(final PostFunctionResultForFunctionExecutionRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<EmptyResult>>() {
+                public PlayFabResult<EmptyResult> call() throws Exception {
+                    return PlayFabCloudScriptAPI.privatePostFunctionResultForFunctionExecutionAsync(PlayFabCloudScriptInstanceAPI.this, request);
+                }
+            });
+        }
+
+        /**
+         * Generate a player PlayStream event for the provided function result.
+         * @param request PostFunctionResultForPlayerTriggeredActionRequest
+         * @return Running future that will complete with EmptyResult
+         */
+        public PlayFabFuture<PlayFabResult<EmptyResult>> PostFunctionResultForPlayerTriggeredAction(final PostFunctionResultForPlayerTriggeredActionRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<EmptyResult>>() {
+                public PlayFabResult<EmptyResult> call() throws Exception {
+                    return PlayFabCloudScriptAPI.privatePostFunctionResultForPlayerTriggeredActionAsync(PlayFabCloudScriptInstanceAPI.this, request);
+                }
+            });
+        }
+
+        /**
+         * Generate a PlayStream event for the provided function result.
+         * @param request PostFunctionResultForScheduledTaskRequest
+         * @return Running future that will complete with EmptyResult
+         */
+        public PlayFabFuture<PlayFabResult<EmptyResult>> PostFunctionResultForScheduledTask(final PostFunctionResultForScheduledTaskRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<EmptyResult>>() {
+                public PlayFabResult<EmptyResult> call() throws Exception {
+                    return PlayFabCloudScriptAPI.privatePostFunctionResultForScheduledTaskAsync(PlayFabCloudScriptInstanceAPI.this, request);
+                }
+            });
+        }
+
+        /**
+         * Registers an HTTP triggered Azure function with a title.
+         * @param request RegisterHttpFunctionRequest
+         * @return Running future that will complete with EmptyResult
+         */
+        public PlayFabFuture<PlayFabResult<EmptyResult>> RegisterHttpFunction(final RegisterHttpFunctionRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<EmptyResult>>() {
+                public PlayFabResult<EmptyResult> call() throws Exception {
+                    return PlayFabCloudScriptAPI.privateRegisterHttpFunctionAsync(PlayFabCloudScriptInstanceAPI.this, request);
+                }
+            });
+        }
+
+        /**
+         * Registers a queue triggered Azure Function with a title.
+         * @param request RegisterQueuedFunctionRequest
+         * @return Running future that will complete with EmptyResult
+         */
+        public PlayFabFuture<PlayFabResult<EmptyResult>> RegisterQueuedFunction(final RegisterQueuedFunctionRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<EmptyResult>>() {
+                public PlayFabResult<EmptyResult> call() throws Exception {
+                    return PlayFabCloudScriptAPI.privateRegisterQueuedFunctionAsync(PlayFabCloudScriptInstanceAPI.this, request);
+                }
+            });
+        }
+
+        /**
+         * Unregisters an Azure Function with a title.
+         * @param request UnregisterFunctionRequest
+         * @return Running future that will complete with EmptyResult
+         */
+        public PlayFabFuture<PlayFabResult<EmptyResult>> UnregisterFunction(final UnregisterFunctionRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<EmptyResult>>() {
+                public PlayFabResult<EmptyResult> call() throws Exception {
+                    return PlayFabCloudScriptAPI.privateUnregisterFunctionAsync(PlayFabCloudScriptInstanceAPI.this, request);
+                }
+            });
+        }
+    }
+}
@@ -0,0 +1,1885 @@
+package com.playfab;
+
+import java.io.IOException;
+import java.util.Date;
+import com.google.gson.*;
+import com.google.gson.reflect.TypeToken;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
+import com.playfab.PlayFabCloudScriptModels.*;
+import com.playfab.internal.PlayFabJson;
+
+/**
+ * Streaming TypeAdapters for every class in PlayFabCloudScriptModels, so models are read and written without field reflection.
+ * PlayFabJson finds FACTORY through this class name. Enums keep Gson's own adapters, which do no per-call reflection.
+ * Generated from PlayFabCloudScriptModels by PlayFabModelAdaptersGenerator, in the PlayFabSDK tests: regenerate rather than edit.
+ */
+public class PlayFabCloudScriptModelsAdapters {
+    public static final TypeAdapterFactory FACTORY = new TypeAdapterFactory() {
+        @SuppressWarnings("unchecked")
+        public <T> TypeAdapter<T> create(Gson gson, TypeToken<T> type) {
+            Class<?> raw = type.getRawType();
+            if (raw.getDeclaringClass() != PlayFabCloudScriptModels.class)
+                return null;
+            switch (raw.getSimpleName()) {
+                case "AdCampaignAttributionModel": return (TypeAdapter<T>) new AdCampaignAttributionModelAdapter(gson);
+                case "ContactEmailInfoModel": return (TypeAdapter<T>) new ContactEmailInfoModelAdapter(gson);
+                case "EmptyResult": return (TypeAdapter<T>) new EmptyResultAdapter(gson);
+                case "EntityKey": return (TypeAdapter<T>) new EntityKeyAdapter(gson);
+                case "ExecuteCloudScriptResult": return (TypeAdapter<T>) new ExecuteCloudScriptResultAdapter(gson);
+                case "ExecuteEntityCloudScriptRequest": return (TypeAdapter<T>) new ExecuteEntityCloudScriptRequestAdapter(gson);
+                case "ExecuteFunctionRequest": return (TypeAdapter<T>) new ExecuteFunctionRequestAdapter(gson);
+                case "ExecuteFunctionResult": return (TypeAdapter<T>) new ExecuteFunctionResultAdapter(gson);
+                case "FunctionExecutionError": return (TypeAdapter<T>) new FunctionExecutionErrorAdapter(gson);
+                case "FunctionModel": return (TypeAdapter<T>) new FunctionModelAdapter(gson);
+                case "GetFunctionRequest": return (TypeAdapter<T>) new GetFunctionRequestAdapter(gson);
+                case "GetFunctionResult": return (TypeAdapter<T>) new GetFunctionResultAdapter(gson);
+                case "HttpFunctionModel": return (TypeAdapter<T>) new HttpFunctionModelAdapter(gson);
+                case "LinkedPlatformAccountModel": return (TypeAdapter<T>) new LinkedPlatformAccountModelAdapter(gson);
+                case "ListFunctionsRequest": return (TypeAdapter<T>) new ListFunctionsRequestAdapter(gson);
+                case "ListFunctionsResult": return (TypeAdapter<T>) new ListFunctionsResultAdapter(gson);
+                case "ListHttpFunctionsResult": return (TypeAdapter<T>) new ListHttpFunctionsResultAdapter(gson);
+                case "ListQueuedFunctionsResult": return (TypeAdapter<T>) new ListQueuedFunctionsResultAdapter(gson);
+                case "LocationModel": return (TypeAdapter<T>) new LocationModelAdapter(gson);
+                case "LogStatement": return (TypeAdapter<T>) new LogStatementAdapter(gson);
+                case "MembershipModel": return (TypeAdapter<T>) new MembershipModelAdapter(gson);
+                case "NameIdentifier": return (TypeAdapter<T>) new NameIdentifierAdapter(gson);
+                case "PlayerProfileModel": return (TypeAdapter<T>) new PlayerProfileModelAdapter(gson);
+                case "PlayStreamEventEnvelopeModel": return (TypeAdapter<T>) new PlayStreamEventEnvelopeModelAdapter(gson);
+                case "PostFunctionResultForEntityTriggeredActionRequest": return (TypeAdapter<T>) new PostFunctionResultForEntityTriggeredActionRequestAdapter(gson);
+                case "PostFunctionResultForFunctionExecutionRequest": return (TypeAdapter<T>) new PostFunctionResultForFunctionExecutionRequestAdapter(gson);
+                case "PostFunctionResultForPlayerTriggeredActionRequest": return (TypeAdapter<T>) new PostFunctionResultForPlayerTriggeredActionRequestAdapter(gson);
+                case "PostFunctionResultForScheduledTaskRequest": return (TypeAdapter<T>) new PostFunctionResultForScheduledTaskRequestAdapter(gson);
+                case "PushNotificationRegistrationModel": return (TypeAdapter<T>) new PushNotificationRegistrationModelAdapter(gson);
+                case "QueuedFunctionModel": return (TypeAdapter<T>) new QueuedFunctionModelAdapter(gson);
+                case "RegisterHttpFunctionRequest": return (TypeAdapter<T>) new RegisterHttpFunctionRequestAdapter(gson);
+                case "RegisterQueuedFunctionRequest": return (TypeAdapter<T>) new RegisterQueuedFunctionRequestAdapter(gson);
+                case "ScriptExecutionError": return (TypeAdapter<T>) new ScriptExecutionErrorAdapter(gson);
+                case "StatisticModel": return (TypeAdapter<T>) new StatisticModelAdapter(gson);
+                case "SubscriptionModel": return (TypeAdapter<T>) new SubscriptionModelAdapter(gson);
+                case "TagModel": return (TypeAdapter<T>) new TagModelAdapter(gson);
+                case "UnregisterFunctionRequest": return (TypeAdapter<T>) new UnregisterFunctionRequestAdapter(gson);
+                case "ValueToDateModel": return (TypeAdapter<T>) new ValueToDateModelAdapter(gson);
+                default: return null;
+            }
+        }
+    };
+
+    private static class AdCampaignAttributionModelAdapter extends TypeAdapter<AdCampaignAttributionModel> {
+        private final TypeAdapter<Date> dateAdapter;
+
+        private AdCampaignAttributionModelAdapter(Gson gson) {
+            dateAdapter = gson.getAdapter(Date.class);
+        }
+
+        @Override
+        public void write(JsonWriter out, AdCampaignAttributionModel value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            dateAdapter.write(out.name("AttributedAt"), value.AttributedAt);
+            out.name("CampaignId").value(value.CampaignId);
+            out.name("Platform").value(value.Platform);
+            out.endObject();
+        }
+
+        @Override
+        public AdCampaignAttributionModel read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            AdCampaignAttributionModel value = new AdCampaignAttributionModel();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "AttributedAt": value.AttributedAt = dateAdapter.read(in); break;
+                        case "CampaignId": value.CampaignId = PlayFabJson.readString(in); break;
+                        case "Platform": value.Platform = PlayFabJson.readString(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class ContactEmailInfoModelAdapter extends TypeAdapter<ContactEmailInfoModel> {
+        private final TypeAdapter<EmailVerificationStatus> emailVerificationStatusAdapter;
+
+        private ContactEmailInfoModelAdapter(Gson gson) {
+            emailVerificationStatusAdapter = gson.getAdapter(EmailVerificationStatus.class);
+        }
+
+        @Override
+        public void write(JsonWriter out, ContactEmailInfoModel value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.name("EmailAddress").value(value.EmailAddress);
+            out.name("Name").value(value.Name);
+            emailVerificationStatusAdapter.write(out.name("VerificationStatus"), value.VerificationStatus);
+            out.endObject();
+        }
+
+        @Override
+        public ContactEmailInfoModel read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            ContactEmailInfoModel value = new ContactEmailInfoModel();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "EmailAddress": value.EmailAddress = PlayFabJson.readString(in); break;
+                        case "Name": value.Name = PlayFabJson.readString(in); break;
+                        case "VerificationStatus": value.VerificationStatus = emailVerificationStatusAdapter.read(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class EmptyResultAdapter extends TypeAdapter<EmptyResult> {
+        private EmptyResultAdapter(Gson gson) {
+        }
+
+        @Override
+        public void write(JsonWriter out, EmptyResult value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.endObject();
+        }
+
+        @Override
+        public EmptyResult read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            EmptyResult value = new EmptyResult();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class EntityKeyAdapter extends TypeAdapter<EntityKey> {
+        private EntityKeyAdapter(Gson gson) {
+        }
+
+        @Override
+        public void write(JsonWriter out, EntityKey value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.name("Id").value(value.Id);
+            out.name("Type").value(value.Type);
+            out.endObject();
+        }
+
+        @Override
+        public EntityKey read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            EntityKey value = new EntityKey();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "Id": value.Id = PlayFabJson.readString(in); break;
+                        case "Type": value.Type = PlayFabJson.readString(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class ExecuteCloudScriptResultAdapter extends TypeAdapter<ExecuteCloudScriptResult> {
+        private final TypeAdapter<ScriptExecutionError> scriptExecutionErrorAdapter;
+        private final TypeAdapter<Double> doubleAdapter;
+        private final TypeAdapter<Object> objectAdapter;
+        private final TypeAdapter<LogStatement> logStatementAdapter;
+
+        private ExecuteCloudScriptResultAdapter(Gson gson) {
+            scriptExecutionErrorAdapter = gson.getAdapter(ScriptExecutionError.class);
+            doubleAdapter = gson.getAdapter(Double.class);
+            objectAdapter = gson.getAdapter(Object.class);
+            logStatementAdapter = gson.getAdapter(LogStatement.class);
+        }
+
+        @Override
+        public void write(JsonWriter out, ExecuteCloudScriptResult value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.name("APIRequestsIssued").value(value.APIRequestsIssued);
+            scriptExecutionErrorAdapter.write(out.name("Error"), value.Error);
+            doubleAdapter.write(out.name("ExecutionTimeSeconds"), value.ExecutionTimeSeconds);
+            out.name("FunctionName").value(value.FunctionName);
+            objectAdapter.write(out.name("FunctionResult"), value.FunctionResult);
+            out.name("FunctionResultTooLarge").value(value.FunctionResultTooLarge);
+            out.name("HttpRequestsIssued").value(value.HttpRequestsIssued);
+            PlayFabJson.writeList(out.name("Logs"), value.Logs, logStatementAdapter);
+            out.name("LogsTooLarge").value(value.LogsTooLarge);
+            out.name("MemoryConsumedBytes").value(value.MemoryConsumedBytes);
+            doubleAdapter.write(out.name("ProcessorTimeSeconds"), value.ProcessorTimeSeconds);
+            out.name("Revision").value(value.Revision);
+            out.endObject();
+        }
+
+        @Override
+        public ExecuteCloudScriptResult read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            ExecuteCloudScriptResult value = new ExecuteCloudScriptResult();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "APIRequestsIssued": value.APIRequestsIssued = PlayFabJson.readInteger(in); break;
+                        case "Error": value.Error = scriptExecutionErrorAdapter.read(in); break;
+                        case "ExecutionTimeSeconds": value.ExecutionTimeSeconds = doubleAdapter.read(in); break;
+                        case "FunctionName": value.FunctionName = PlayFabJson.readString(in); break;
+                        case "FunctionResult": value.FunctionResult = objectAdapter.read(in); break;
+                        case "FunctionResultTooLarge": value.FunctionResultTooLarge = PlayFabJson.readBoolean(in); break;
+                        case "HttpRequestsIssued": value.HttpRequestsIssued = PlayFabJson.readInteger(in); break;
+                        case "Logs": value.Logs = PlayFabJson.readList(in, logStatementAdapter); break;
+                        case "LogsTooLarge": value.LogsTooLarge = PlayFabJson.readBoolean(in); break;
+                        case "MemoryConsumedBytes": value.MemoryConsumedBytes = PlayFabJson.readLong(in); break;
+                        case "ProcessorTimeSeconds": value.ProcessorTimeSeconds = doubleAdapter.read(in); break;
+                        case "Revision": value.Revision = PlayFabJson.readInteger(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class ExecuteEntityCloudScriptRequestAdapter extends TypeAdapter<ExecuteEntityCloudScriptRequest> {
+        private final TypeAdapter<String> stringAdapter;
+        private final TypeAdapter<EntityKey> entityKeyAdapter;
+        private final TypeAdapter<Object> objectAdapter;
+        private final TypeAdapter<CloudScriptRevisionOption> cloudScriptRevisionOptionAdapter;
+
+        private ExecuteEntityCloudScriptRequestAdapter(Gson gson) {
+            stringAdapter = gson.getAdapter(String.class);
+            entityKeyAdapter = gson.getAdapter(EntityKey.class);
+            objectAdapter = gson.getAdapter(Object.class);
+            cloudScriptRevisionOptionAdapter = gson.getAdapter(CloudScriptRevisionOption.class);
+        }
+
+        @Override
+        public void write(JsonWriter out, ExecuteEntityCloudScriptRequest value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            PlayFabJson.writeMap(out.name("CustomTags"), value.CustomTags, stringAdapter);
+            entityKeyAdapter.write(out.name("Entity"), value.Entity);
+            out.name("FunctionName").value(value.FunctionName);
+            objectAdapter.write(out.name("FunctionParameter"), value.FunctionParameter);
+            out.name("GeneratePlayStreamEvent").value(value.GeneratePlayStreamEvent);
+            cloudScriptRevisionOptionAdapter.write(out.name("RevisionSelection"), value.RevisionSelection);
+            out.name("SpecificRevision").value(value.SpecificRevision);
+            out.endObject();
+        }
+
+        @Override
+        public ExecuteEntityCloudScriptRequest read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            ExecuteEntityCloudScriptRequest value = new ExecuteEntityCloudScriptRequest();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "CustomTags": value.CustomTags = PlayFabJson.readMap(in, stringAdapter); break;
+                        case "Entity": value.Entity = entityKeyAdapter.read(in); break;
+                        case "FunctionName": value.FunctionName = PlayFabJson.readString(in); break;
+                        case "FunctionParameter": value.FunctionParameter = objectAdapter.read(in); break;
+                        case "GeneratePlayStreamEvent": value.GeneratePlayStreamEvent = PlayFabJson.readBoolean(in); break;
+                        case "RevisionSelection": value.RevisionSelection = cloudScriptRevisionOptionAdapter.read(in); break;
+                        case "SpecificRevision": value.SpecificRevision = PlayFabJson.readInteger(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class ExecuteFunctionRequestAdapter extends TypeAdapter<ExecuteFunctionRequest> {
+        private final TypeAdapter<String> stringAdapter;
+        private final TypeAdapter<EntityKey> entityKeyAdapter;
+        private final TypeAdapter<Object> objectAdapter;
+
+        private ExecuteFunctionRequestAdapter(Gson gson) {
+            stringAdapter = gson.getAdapter(String.class);
+            entityKeyAdapter = gson.getAdapter(EntityKey.class);
+            objectAdapter = gson.getAdapter(Object.class);
+        }
+
+        @Override
+        public void write(JsonWriter out, ExecuteFunctionRequest value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            PlayFabJson.writeMap(out.name("CustomTags"), value.CustomTags, stringAdapter);
+            entityKeyAdapter.write(out.name("Entity"), value.Entity);
+            out.name("FunctionName").value(value.FunctionName);
+            objectAdapter.write(out.name("FunctionParameter"), value.FunctionParameter);
+            out.name("GeneratePlayStreamEvent").value(value.GeneratePlayStreamEvent);
+            out.endObject();
+        }
+
+        @Override
+        public ExecuteFunctionRequest read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            ExecuteFunctionRequest value = new ExecuteFunctionRequest();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "CustomTags": value.CustomTags = PlayFabJson.readMap(in, stringAdapter); break;
+                        case "Entity": value.Entity = entityKeyAdapter.read(in); break;
+                        case "FunctionName": value.FunctionName = PlayFabJson.readString(in); break;
+                        case "FunctionParameter": value.FunctionParameter = objectAdapter.read(in); break;
+                        case "GeneratePlayStreamEvent": value.GeneratePlayStreamEvent = PlayFabJson.readBoolean(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class ExecuteFunctionResultAdapter extends TypeAdapter<ExecuteFunctionResult> {
+        private final TypeAdapter<FunctionExecutionError> functionExecutionErrorAdapter;
+        private final TypeAdapter<Object> objectAdapter;
+
+        private ExecuteFunctionResultAdapter(Gson gson) {
+            functionExecutionErrorAdapter = gson.getAdapter(FunctionExecutionError.class);
+            objectAdapter = gson.getAdapter(Object.class);
+        }
+
+        @Override
+        public void write(JsonWriter out, ExecuteFunctionResult value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            functionExecutionErrorAdapter.write(out.name("Error"), value.Error);
+            out.name("ExecutionTimeMilliseconds").value(value.ExecutionTimeMilliseconds);
+            out.name("FunctionName").value(value.FunctionName);
+            objectAdapter.write(out.name("FunctionResult"), value.FunctionResult);
+            out.name("FunctionResultTooLarge").value(value.FunctionResultTooLarge);
+            out.endObject();
+        }
+
+        @Override
+        public ExecuteFunctionResult read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            ExecuteFunctionResult value = new ExecuteFunctionResult();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "Error": value.Error = functionExecutionErrorAdapter.read(in); break;
+                        case "ExecutionTimeMilliseconds": value.ExecutionTimeMilliseconds = PlayFabJson.readInteger(in); break;
+                        case "FunctionName": value.FunctionName = PlayFabJson.readString(in); break;
+                        case "FunctionResult": value.FunctionResult = objectAdapter.read(in); break;
+                        case "FunctionResultTooLarge": value.FunctionResultTooLarge = PlayFabJson.readBoolean(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class FunctionExecutionErrorAdapter extends TypeAdapter<FunctionExecutionError> {
+        private FunctionExecutionErrorAdapter(Gson gson) {
+        }
+
+        @Override
+        public void write(JsonWriter out, FunctionExecutionError value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.name("Error").value(value.Error);
+            out.name("Message").value(value.Message);
+            out.name("StackTrace").value(value.StackTrace);
+            out.endObject();
+        }
+
+        @Override
+        public FunctionExecutionError read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            FunctionExecutionError value = new FunctionExecutionError();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "Error": value.Error = PlayFabJson.readString(in); break;
+                        case "Message": value.Message = PlayFabJson.readString(in); break;
+                        case "StackTrace": value.StackTrace = PlayFabJson.readString(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class FunctionModelAdapter extends TypeAdapter<FunctionModel> {
+        private FunctionModelAdapter(Gson gson) {
+        }
+
+        @Override
+        public void write(JsonWriter out, FunctionModel value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.name("FunctionAddress").value(value.FunctionAddress);
+            out.name("FunctionName").value(value.FunctionName);
+            out.name("TriggerType").value(value.TriggerType);
+            out.endObject();
+        }
+
+        @Override
+        public FunctionModel read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            FunctionModel value = new FunctionModel();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "FunctionAddress": value.FunctionAddress = PlayFabJson.readString(in); break;
+                        case "FunctionName": value.FunctionName = PlayFabJson.readString(in); break;
+                        case "TriggerType": value.TriggerType = PlayFabJson.readString(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class GetFunctionRequestAdapter extends TypeAdapter<GetFunctionRequest> {
+        private final TypeAdapter<String> stringAdapter;
+
+        private GetFunctionRequestAdapter(Gson gson) {
+            stringAdapter = gson.getAdapter(String.class);
+        }
+
+        @Override
+        public void write(JsonWriter out, GetFunctionRequest value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            PlayFabJson.writeMap(out.name("CustomTags"), value.CustomTags, stringAdapter);
+            out.name("FunctionName").value(value.FunctionName);
+            out.name("TitleId").value(value.TitleId);
+            out.endObject();
+        }
+
+        @Override
+        public GetFunctionRequest read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            GetFunctionRequest value = new GetFunctionRequest();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "CustomTags": value.CustomTags = PlayFabJson.readMap(in, stringAdapter); break;
+                        case "FunctionName": value.FunctionName = PlayFabJson.readString(in); break;
+                        case "TitleId": value.TitleId = PlayFabJson.readString(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class GetFunctionResultAdapter extends TypeAdapter<GetFunctionResult> {
+        private GetFunctionResultAdapter(Gson gson) {
+        }
+
+        @Override
+        public void write(JsonWriter out, GetFunctionResult value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.name("ConnectionString").value(value.ConnectionString);
+            out.name("FunctionUrl").value(value.FunctionUrl);
+            out.name("QueueName").value(value.QueueName);
+            out.name("TriggerType").value(value.TriggerType);
+            out.endObject();
+        }
+
+        @Override
+        public GetFunctionResult read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            GetFunctionResult value = new GetFunctionResult();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "ConnectionString": value.ConnectionString = PlayFabJson.readString(in); break;
+                        case "FunctionUrl": value.FunctionUrl = PlayFabJson.readString(in); break;
+                        case "QueueName": value.QueueName = PlayFabJson.readString(in); break;
+                        case "TriggerType": value.TriggerType = PlayFabJson.readString(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class HttpFunctionModelAdapter extends TypeAdapter<HttpFunctionModel> {
+        private HttpFunctionModelAdapter(Gson gson) {
+        }
+
+        @Override
+        public void write(JsonWriter out, HttpFunctionModel value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.name("FunctionName").value(value.FunctionName);
+            out.name("FunctionUrl").value(value.FunctionUrl);
+            out.endObject();
+        }
+
+        @Override
+        public HttpFunctionModel read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            HttpFunctionModel value = new HttpFunctionModel();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "FunctionName": value.FunctionName = PlayFabJson.readString(in); break;
+                        case "FunctionUrl": value.FunctionUrl = PlayFabJson.readString(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class LinkedPlatformAccountModelAdapter extends TypeAdapter<LinkedPlatformAccountModel> {
+        private final TypeAdapter<LoginIdentityProvider> loginIdentityProviderAdapter;
+
+        private LinkedPlatformAccountModelAdapter(Gson gson) {
+            loginIdentityProviderAdapter = gson.getAdapter(LoginIdentityProvider.class);
+        }
+
+        @Override
+        public void write(JsonWriter out, LinkedPlatformAccountModel value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.name("Email").value(value.Email);
+            loginIdentityProviderAdapter.write(out.name("Platform"), value.Platform);
+            out.name("PlatformUserId").value(value.PlatformUserId);
+            out.name("Username").value(value.Username);
+            out.endObject();
+        }
+
+        @Override
+        public LinkedPlatformAccountModel read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            LinkedPlatformAccountModel value = new LinkedPlatformAccountModel();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "Email": value.Email = PlayFabJson.readString(in); break;
+                        case "Platform": value.Platform = loginIdentityProviderAdapter.read(in); break;
+                        case "PlatformUserId": value.PlatformUserId = PlayFabJson.readString(in); break;
+                        case "Username": value.Username = PlayFabJson.readString(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class ListFunctionsRequestAdapter extends TypeAdapter<ListFunctionsRequest> {
+        private final TypeAdapter<String> stringAdapter;
+
+        private ListFunctionsRequestAdapter(Gson gson) {
+            stringAdapter = gson.getAdapter(String.class);
+        }
+
+        @Override
+        public void write(JsonWriter out, ListFunctionsRequest value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            PlayFabJson.writeMap(out.name("CustomTags"), value.CustomTags, stringAdapter);
+            out.endObject();
+        }
+
+        @Override
+        public ListFunctionsRequest read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            ListFunctionsRequest value = new ListFunctionsRequest();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "CustomTags": value.CustomTags = PlayFabJson.readMap(in, stringAdapter); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class ListFunctionsResultAdapter extends TypeAdapter<ListFunctionsResult> {
+        private final TypeAdapter<FunctionModel> functionModelAdapter;
+
+        private ListFunctionsResultAdapter(Gson gson) {
+            functionModelAdapter = gson.getAdapter(FunctionModel.class);
+        }
+
+        @Override
+        public void write(JsonWriter out, ListFunctionsResult value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            PlayFabJson.writeList(out.name("Functions"), value.Functions, functionModelAdapter);
+            out.endObject();
+        }
+
+        @Override
+        public ListFunctionsResult read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            ListFunctionsResult value = new ListFunctionsResult();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "Functions": value.Functions = PlayFabJson.readList(in, functionModelAdapter); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class ListHttpFunctionsResultAdapter extends TypeAdapter<ListHttpFunctionsResult> {
+        private final TypeAdapter<HttpFunctionModel> httpFunctionModelAdapter;
+
+        private ListHttpFunctionsResultAdapter(Gson gson) {
+            httpFunctionModelAdapter = gson.getAdapter(HttpFunctionModel.class);
+        }
+
+        @Override
+        public void write(JsonWriter out, ListHttpFunctionsResult value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            PlayFabJson.writeList(out.name("Functions"), value.Functions, httpFunctionModelAdapter);
+            out.endObject();
+        }
+
+        @Override
+        public ListHttpFunctionsResult read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            ListHttpFunctionsResult value = new ListHttpFunctionsResult();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "Functions": value.Functions = PlayFabJson.readList(in, httpFunctionModelAdapter); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class ListQueuedFunctionsResultAdapter extends TypeAdapter<ListQueuedFunctionsResult> {
+        private final TypeAdapter<QueuedFunctionModel> queuedFunctionModelAdapter;
+
+        private ListQueuedFunctionsResultAdapter(Gson gson) {
+            queuedFunctionModelAdapter = gson.getAdapter(QueuedFunctionModel.class);
+        }
+
+        @Override
+        public void write(JsonWriter out, ListQueuedFunctionsResult value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            PlayFabJson.writeList(out.name("Functions"), value.Functions, queuedFunctionModelAdapter);
+            out.endObject();
+        }
+
+        @Override
+        public ListQueuedFunctionsResult read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            ListQueuedFunctionsResult value = new ListQueuedFunctionsResult();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "Functions": value.Functions = PlayFabJson.readList(in, queuedFunctionModelAdapter); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class LocationModelAdapter extends TypeAdapter<LocationModel> {
+        private final TypeAdapter<ContinentCode> continentCodeAdapter;
+        private final TypeAdapter<CountryCode> countryCodeAdapter;
+        private final TypeAdapter<Double> doubleAdapter;
+
+        private LocationModelAdapter(Gson gson) {
+            continentCodeAdapter = gson.getAdapter(ContinentCode.class);
+            countryCodeAdapter = gson.getAdapter(CountryCode.class);
+            doubleAdapter = gson.getAdapter(Double.class);
+        }
+
+        @Override
+        public void write(JsonWriter out, LocationModel value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.name("City").value(value.City);
+            continentCodeAdapter.write(out.name("ContinentCode"), value.ContinentCode);
+            countryCodeAdapter.write(out.name("CountryCode"), value.CountryCode);
+            doubleAdapter.write(out.name("Latitude"), value.Latitude);
+            doubleAdapter.write(out.name("Longitude"), value.Longitude);
+            out.endObject();
+        }
+
+        @Override
+        public LocationModel read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            LocationModel value = new LocationModel();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "City": value.City = PlayFabJson.readString(in); break;
+                        case "ContinentCode": value.ContinentCode = continentCodeAdapter.read(in); break;
+                        case "CountryCode": value.CountryCode = countryCodeAdapter.read(in); break;
+                        case "Latitude": value.Latitude = doubleAdapter.read(in); break;
+                        case "Longitude": value.Longitude = doubleAdapter.read(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class LogStatementAdapter extends TypeAdapter<LogStatement> {
+        private final TypeAdapter<Object> objectAdapter;
+
+        private LogStatementAdapter(Gson gson) {
+            objectAdapter = gson.getAdapter(Object.class);
+        }
+
+        @Override
+        public void write(JsonWriter out, LogStatement value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            objectAdapter.write(out.name("Data"), value.Data);
+            out.name("Level").value(value.Level);
+            out.name("Message").value(value.Message);
+            out.endObject();
+        }
+
+        @Override
+        public LogStatement read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            LogStatement value = new LogStatement();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "Data": value.Data = objectAdapter.read(in); break;
+                        case "Level": value.Level = PlayFabJson.readString(in); break;
+                        case "Message": value.Message = PlayFabJson.readString(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class MembershipModelAdapter extends TypeAdapter<MembershipModel> {
+        private final TypeAdapter<Date> dateAdapter;
+        private final TypeAdapter<SubscriptionModel> subscriptionModelAdapter;
+
+        private MembershipModelAdapter(Gson gson) {
+            dateAdapter = gson.getAdapter(Date.class);
+            subscriptionModelAdapter = gson.getAdapter(SubscriptionModel.class);
+        }
+
+        @Override
+        public void write(JsonWriter out, MembershipModel value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.name("IsActive").value(value.IsActive);
+            dateAdapter.write(out.name("MembershipExpiration"), value.MembershipExpiration);
+            out.name("MembershipId").value(value.MembershipId);
+            dateAdapter.write(out.name("OverrideExpiration"), value.OverrideExpiration);
+            PlayFabJson.writeList(out.name("Subscriptions"), value.Subscriptions, subscriptionModelAdapter);
+            out.endObject();
+        }
+
+        @Override
+        public MembershipModel read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            MembershipModel value = new MembershipModel();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "IsActive": value.IsActive = PlayFabJson.readBoolean(in); break;
+                        case "MembershipExpiration": value.MembershipExpiration = dateAdapter.read(in); break;
+                        case "MembershipId": value.MembershipId = PlayFabJson.readString(in); break;
+                        case "OverrideExpiration": value.OverrideExpiration = dateAdapter.read(in); break;
+                        case "Subscriptions": value.Subscriptions = PlayFabJson.readList(in, subscriptionModelAdapter); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class NameIdentifierAdapter extends TypeAdapter<NameIdentifier> {
+        private NameIdentifierAdapter(Gson gson) {
+        }
+
+        @Override
+        public void write(JsonWriter out, NameIdentifier value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.name("Id").value(value.Id);
+            out.name("Name").value(value.Name);
+            out.endObject();
+        }
+
+        @Override
+        public NameIdentifier read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            NameIdentifier value = new NameIdentifier();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "Id": value.Id = PlayFabJson.readString(in); break;
+                        case "Name": value.Name = PlayFabJson.readString(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class PlayerProfileModelAdapter extends TypeAdapter<PlayerProfileModel> {
+        private final TypeAdapter<AdCampaignAttributionModel> adCampaignAttributionModelAdapter;
+        private final TypeAdapter<Date> dateAdapter;
+        private final TypeAdapter<ContactEmailInfoModel> contactEmailInfoModelAdapter;
+        private final TypeAdapter<String> stringAdapter;
+        private final TypeAdapter<LinkedPlatformAccountModel> linkedPlatformAccountModelAdapter;
+        private final TypeAdapter<LocationModel> locationModelAdapter;
+        private final TypeAdapter<MembershipModel> membershipModelAdapter;
+        private final TypeAdapter<LoginIdentityProvider> loginIdentityProviderAdapter;
+        private final TypeAdapter<PushNotificationRegistrationModel> pushNotificationRegistrationModelAdapter;
+        private final TypeAdapter<StatisticModel> statisticModelAdapter;
+        private final TypeAdapter<TagModel> tagModelAdapter;
+        private final TypeAdapter<ValueToDateModel> valueToDateModelAdapter;
+
+        private PlayerProfileModelAdapter(Gson gson) {
+            adCampaignAttributionModelAdapter = gson.getAdapter(AdCampaignAttributionModel.class);
+            dateAdapter = gson.getAdapter(Date.class);
+            contactEmailInfoModelAdapter = gson.getAdapter(ContactEmailInfoModel.class);
+            stringAdapter = gson.getAdapter(String.class);
+            linkedPlatformAccountModelAdapter = gson.getAdapter(LinkedPlatformAccountModel.class);
+            locationModelAdapter = gson.getAdapter(LocationModel.class);
+            membershipModelAdapter = gson.getAdapter(MembershipModel.class);
+            loginIdentityProviderAdapter = gson.getAdapter(LoginIdentityProvider.class);
+            pushNotificationRegistrationModelAdapter = gson.getAdapter(PushNotificationRegistrationModel.class);
+            statisticModelAdapter = gson.getAdapter(StatisticModel.class);
+            tagModelAdapter = gson.getAdapter(TagModel.class);
+            valueToDateModelAdapter = gson.getAdapter(ValueToDateModel.class);
+        }
+
+        @Override
+        public void write(JsonWriter out, PlayerProfileModel value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            PlayFabJson.writeList(out.name("AdCampaignAttributions"), value.AdCampaignAttributions, adCampaignAttributionModelAdapter);
+            out.name("AvatarUrl").value(value.AvatarUrl);
+            dateAdapter.write(out.name("BannedUntil"), value.BannedUntil);
+            PlayFabJson.writeList(out.name("ContactEmailAddresses"), value.ContactEmailAddresses, contactEmailInfoModelAdapter);
+            dateAdapter.write(out.name("Created"), value.Created);
+            out.name("DisplayName").value(value.DisplayName);
+            PlayFabJson.writeList(out.name("ExperimentVariants"), value.ExperimentVariants, stringAdapter);
+            dateAdapter.write(out.name("LastLogin"), value.LastLogin);
+            PlayFabJson.writeList(out.name("LinkedAccounts"), value.LinkedAccounts, linkedPlatformAccountModelAdapter);
+            PlayFabJson.writeList(out.name("Locations"), value.Locations, locationModelAdapter);
+            PlayFabJson.writeList(out.name("Memberships"), value.Memberships, membershipModelAdapter);
+            loginIdentityProviderAdapter.write(out.name("Origination"), value.Origination);
+            out.name("PlayerId").value(value.PlayerId);
+            out.name("PublisherId").value(value.PublisherId);
+            PlayFabJson.writeList(out.name("PushNotificationRegistrations"), value.PushNotificationRegistrations, pushNotificationRegistrationModelAdapter);
+            PlayFabJson.writeList(out.name("Statistics"), value.Statistics, statisticModelAdapter);
+            PlayFabJson.writeList(out.name("Tags"), value.Tags, tagModelAdapter);
+            out.name("TitleId").value(value.TitleId);
+            out.name("TotalValueToDateInUSD").value(value.TotalValueToDateInUSD);
+            PlayFabJson.writeList(out.name("ValuesToDate"), value.ValuesToDate, valueToDateModelAdapter);
+            out.endObject();
+        }
+
+        @Override
+        public PlayerProfileModel read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            PlayerProfileModel value = new PlayerProfileModel();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "AdCampaignAttributions": value.AdCampaignAttributions = PlayFabJson.readList(in, adCampaignAttributionModelAdapter); break;
+                        case "AvatarUrl": value.AvatarUrl = PlayFabJson.readString(in); break;
+                        case "BannedUntil": value.BannedUntil = dateAdapter.read(in); break;
+                        case "ContactEmailAddresses": value.ContactEmailAddresses = PlayFabJson.readList(in, contactEmailInfoModelAdapter); break;
+                        case "Created": value.Created = dateAdapter.read(in); break;
+                        case "DisplayName": value.DisplayName = PlayFabJson.readString(in); break;
+                        case "ExperimentVariants": value.ExperimentVariants = PlayFabJson.readList(in, stringAdapter); break;
+                        case "LastLogin": value.LastLogin = dateAdapter.read(in); break;
+                        case "LinkedAccounts": value.LinkedAccounts = PlayFabJson.readList(in, linkedPlatformAccountModelAdapter); break;
+                        case "Locations": value.Locations = PlayFabJson.readList(in, locationModelAdapter); break;
+                        case "Memberships": value.Memberships = PlayFabJson.readList(in, membershipModelAdapter); break;
+                        case "Origination": value.Origination = loginIdentityProviderAdapter.read(in); break;
+                        case "PlayerId": value.PlayerId = PlayFabJson.readString(in); break;
+                        case "PublisherId": value.PublisherId = PlayFabJson.readString(in); break;
+                        case "PushNotificationRegistrations": value.PushNotificationRegistrations = PlayFabJson.readList(in, pushNotificationRegistrationModelAdapter); break;
+                        case "Statistics": value.Statistics = PlayFabJson.readList(in, statisticModelAdapter); break;
+                        case "Tags": value.Tags = PlayFabJson.readList(in, tagModelAdapter); break;
+                        case "TitleId": value.TitleId = PlayFabJson.readString(in); break;
+                        case "TotalValueToDateInUSD": value.TotalValueToDateInUSD = PlayFabJson.readLong(in); break;
+                        case "ValuesToDate": value.ValuesToDate = PlayFabJson.readList(in, valueToDateModelAdapter); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class PlayStreamEventEnvelopeModelAdapter extends TypeAdapter<PlayStreamEventEnvelopeModel> {
+        private PlayStreamEventEnvelopeModelAdapter(Gson gson) {
+        }
+
+        @Override
+        public void write(JsonWriter out, PlayStreamEventEnvelopeModel value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.name("EntityId").value(value.EntityId);
+            out.name("EntityType").value(value.EntityType);
+            out.name("EventData").value(value.EventData);
+            out.name("EventName").value(value.EventName);
+            out.name("EventNamespace").value(value.EventNamespace);
+            out.name("EventSettings").value(value.EventSettings);
+            out.endObject();
+        }
+
+        @Override
+        public PlayStreamEventEnvelopeModel read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            PlayStreamEventEnvelopeModel value = new PlayStreamEventEnvelopeModel();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "EntityId": value.EntityId = PlayFabJson.readString(in); break;
+                        case "EntityType": value.EntityType = PlayFabJson.readString(in); break;
+                        case "EventData": value.EventData = PlayFabJson.readString(in); break;
+                        case "EventName": value.EventName = PlayFabJson.readString(in); break;
+                        case "EventNamespace": value.EventNamespace = PlayFabJson.readString(in); break;
+                        case "EventSettings": value.EventSettings = PlayFabJson.readString(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class PostFunctionResultForEntityTriggeredActionRequestAdapter extends TypeAdapter<PostFunctionResultForEntityTriggeredActionRequest> {
+        private final TypeAdapter<String> stringAdapter;
+        private final TypeAdapter<EntityKey> entityKeyAdapter;
+        private final TypeAdapter<ExecuteFunctionResult> executeFunctionResultAdapter;
+
+        private PostFunctionResultForEntityTriggeredActionRequestAdapter(Gson gson) {
+            stringAdapter = gson.getAdapter(String.class);
+            entityKeyAdapter = gson.getAdapter(EntityKey.class);
+            executeFunctionResultAdapter = gson.getAdapter(ExecuteFunctionResult.class);
+        }
+
+        @Override
+        public void write(JsonWriter out, PostFunctionResultForEntityTriggeredActionRequest value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            PlayFabJson.writeMap(out.name("CustomTags"), value.CustomTags, stringAdapter);
+            entityKeyAdapter.write(out.name("Entity"), value.Entity);
+            executeFunctionResultAdapter.write(out.name("FunctionResult"), value.FunctionResult);
+            out.endObject();
+        }
+
+        @Override
+        public PostFunctionResultForEntityTriggeredActionRequest read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            PostFunctionResultForEntityTriggeredActionRequest value = new PostFunctionResultForEntityTriggeredActionRequest();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "CustomTags": value.CustomTags = PlayFabJson.readMap(in, stringAdapter); break;
+                        case "Entity": value.Entity = entityKeyAdapter.read(in); break;
+                        case "FunctionResult": value.FunctionResult = executeFunctionResultAdapter.read(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class PostFunctionResultForFunctionExecutionRequestAdapter extends TypeAdapter<PostFunctionResultForFunctionExecutionRequest> {
+        private final TypeAdapter<String> stringAdapter;
+        private final TypeAdapter<EntityKey> entityKeyAdapter;
+        private final TypeAdapter<ExecuteFunctionResult> executeFunctionResultAdapter;
+
+        private PostFunctionResultForFunctionExecutionRequestAdapter(Gson gson) {
+            stringAdapter = gson.getAdapter(String.class);
+            entityKeyAdapter = gson.getAdapter(EntityKey.class);
+            executeFunctionResultAdapter = gson.getAdapter(ExecuteFunctionResult.class);
+        }
+
+        @Override
+        public void write(JsonWriter out, PostFunctionResultForFunctionExecutionRequest value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            PlayFabJson.writeMap(out.name("CustomTags"), value.CustomTags, stringAdapter);
+            entityKeyAdapter.write(out.name("Entity"), value.Entity);
+            executeFunctionResultAdapter.write(out.name("FunctionResult"), value.FunctionResult);
+            out.endObject();
+        }
+
+        @Override
+        public PostFunctionResultForFunctionExecutionRequest read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            PostFunctionResultForFunctionExecutionRequest value = new PostFunctionResultForFunctionExecutionRequest();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "CustomTags": value.CustomTags = PlayFabJson.readMap(in, stringAdapter); break;
+                        case "Entity": value.Entity = entityKeyAdapter.read(in); break;
+                        case "FunctionResult": value.FunctionResult = executeFunctionResultAdapter.read(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class PostFunctionResultForPlayerTriggeredActionRequestAdapter extends TypeAdapter<PostFunctionResultForPlayerTriggeredActionRequest> {
+        private final TypeAdapter<String> stringAdapter;
+        private final TypeAdapter<EntityKey> entityKeyAdapter;
+        private final TypeAdapter<ExecuteFunctionResult> executeFunctionResultAdapter;
+        private final TypeAdapter<PlayerProfileModel> playerProfileModelAdapter;
+        private final TypeAdapter<PlayStreamEventEnvelopeModel> playStreamEventEnvelopeModelAdapter;
+
+        private PostFunctionResultForPlayerTriggeredActionRequestAdapter(Gson gson) {
+            stringAdapter = gson.getAdapter(String.class);
+            entityKeyAdapter = gson.getAdapter(EntityKey.class);
+            executeFunctionResultAdapter = gson.getAdapter(ExecuteFunctionResult.class);
+            playerProfileModelAdapter = gson.getAdapter(PlayerProfileModel.class);
+            playStreamEventEnvelopeModelAdapter = gson.getAdapter(PlayStreamEventEnvelopeModel.class);
+        }
+
+        @Override
+        public void write(JsonWriter out, PostFunctionResultForPlayerTriggeredActionRequest value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            PlayFabJson.writeMap(out.name("CustomTags"), value.CustomTags, stringAdapter);
+            entityKeyAdapter.write(out.name("Entity"), value.Entity);
+            executeFunctionResultAdapter.write(out.name("FunctionResult"), value.FunctionResult);
+            playerProfileModelAdapter.write(out.name("PlayerProfile"), value.PlayerProfile);
+            playStreamEventEnvelopeModelAdapter.write(out.name("PlayStreamEventEnvelope"), value.PlayStreamEventEnvelope);
+            out.endObject();
+        }
+
+        @Override
+        public PostFunctionResultForPlayerTriggeredActionRequest read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            PostFunctionResultForPlayerTriggeredActionRequest value = new PostFunctionResultForPlayerTriggeredActionRequest();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "CustomTags": value.CustomTags = PlayFabJson.readMap(in, stringAdapter); break;
+                        case "Entity": value.Entity = entityKeyAdapter.read(in); break;
+                        case "FunctionResult": value.FunctionResult = executeFunctionResultAdapter.read(in); break;
+                        case "PlayerProfile": value.PlayerProfile = playerProfileModelAdapter.read(in); break;
+                        case "PlayStreamEventEnvelope": value.PlayStreamEventEnvelope = playStreamEventEnvelopeModelAdapter.read(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class PostFunctionResultForScheduledTaskRequestAdapter extends TypeAdapter<PostFunctionResultForScheduledTaskRequest> {
+        private final TypeAdapter<String> stringAdapter;
+        private final TypeAdapter<EntityKey> entityKeyAdapter;
+        private final TypeAdapter<ExecuteFunctionResult> executeFunctionResultAdapter;
+        private final TypeAdapter<NameIdentifier> nameIdentifierAdapter;
+
+        private PostFunctionResultForScheduledTaskRequestAdapter(Gson gson) {
+            stringAdapter = gson.getAdapter(String.class);
+            entityKeyAdapter = gson.getAdapter(EntityKey.class);
+            executeFunctionResultAdapter = gson.getAdapter(ExecuteFunctionResult.class);
+            nameIdentifierAdapter = gson.getAdapter(NameIdentifier.class);
+        }
+
+        @Override
+        public void write(JsonWriter out, PostFunctionResultForScheduledTaskRequest value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            PlayFabJson.writeMap(out.name("CustomTags"), value.CustomTags, stringAdapter);
+            entityKeyAdapter.write(out.name("Entity"), value.Entity);
+            executeFunctionResultAdapter.write(out.name("FunctionResult"), value.FunctionResult);
+            nameIdentifierAdapter.write(out.name("ScheduledTaskId"), value.ScheduledTaskId);
+            out.endObject();
+        }
+
+        @Override
+        public PostFunctionResultForScheduledTaskRequest read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            PostFunctionResultForScheduledTaskRequest value = new PostFunctionResultForScheduledTaskRequest();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "CustomTags": value.CustomTags = PlayFabJson.readMap(in, stringAdapter); break;
+                        case "Entity": value.Entity = entityKeyAdapter.read(in); break;
+                        case "FunctionResult": value.FunctionResult = executeFunctionResultAdapter.read(in); break;
+                        case "ScheduledTaskId": value.ScheduledTaskId = nameIdentifierAdapter.read(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class PushNotificationRegistrationModelAdapter extends TypeAdapter<PushNotificationRegistrationModel> {
+        private final TypeAdapter<PushNotificationPlatform> pushNotificationPlatformAdapter;
+
+        private PushNotificationRegistrationModelAdapter(Gson gson) {
+            pushNotificationPlatformAdapter = gson.getAdapter(PushNotificationPlatform.class);
+        }
+
+        @Override
+        public void write(JsonWriter out, PushNotificationRegistrationModel value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.name("NotificationEndpointARN").value(value.NotificationEndpointARN);
+            pushNotificationPlatformAdapter.write(out.name("Platform"), value.Platform);
+            out.endObject();
+        }
+
+        @Override
+        public PushNotificationRegistrationModel read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            PushNotificationRegistrationModel value = new PushNotificationRegistrationModel();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "NotificationEndpointARN": value.NotificationEndpointARN = PlayFabJson.readString(in); break;
+                        case "Platform": value.Platform = pushNotificationPlatformAdapter.read(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class QueuedFunctionModelAdapter extends TypeAdapter<QueuedFunctionModel> {
+        private QueuedFunctionModelAdapter(Gson gson) {
+        }
+
+        @Override
+        public void write(JsonWriter out, QueuedFunctionModel value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.name("ConnectionString").value(value.ConnectionString);
+            out.name("FunctionName").value(value.FunctionName);
+            out.name("QueueName").value(value.QueueName);
+            out.endObject();
+        }
+
+        @Override
+        public QueuedFunctionModel read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            QueuedFunctionModel value = new QueuedFunctionModel();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "ConnectionString": value.ConnectionString = PlayFabJson.readString(in); break;
+                        case "FunctionName": value.FunctionName = PlayFabJson.readString(in); break;
+                        case "QueueName": value.QueueName = PlayFabJson.readString(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class RegisterHttpFunctionRequestAdapter extends TypeAdapter<RegisterHttpFunctionRequest> {
+        private final TypeAdapter<String> stringAdapter;
+
+        private RegisterHttpFunctionRequestAdapter(Gson gson) {
+            stringAdapter = gson.getAdapter(String.class);
+        }
+
+        @Override
+        public void write(JsonWriter out, RegisterHttpFunctionRequest value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.name("AzureResourceId").value(value.AzureResourceId);
+            PlayFabJson.writeMap(out.name("CustomTags"), value.CustomTags, stringAdapter);
+            out.name("FunctionName").value(value.FunctionName);
+            out.name("FunctionUrl").value(value.FunctionUrl);
+            out.name("TitleId").value(value.TitleId);
+            out.endObject();
+        }
+
+        @Override
+        public RegisterHttpFunctionRequest read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            RegisterHttpFunctionRequest value = new RegisterHttpFunctionRequest();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "AzureResourceId": value.AzureResourceId = PlayFabJson.readString(in); break;
+                        case "CustomTags": value.CustomTags = PlayFabJson.readMap(in, stringAdapter); break;
+                        case "FunctionName": value.FunctionName = PlayFabJson.readString(in); break;
+                        case "FunctionUrl": value.FunctionUrl = PlayFabJson.readString(in); break;
+                        case "TitleId": value.TitleId = PlayFabJson.readString(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class RegisterQueuedFunctionRequestAdapter extends TypeAdapter<RegisterQueuedFunctionRequest> {
+        private final TypeAdapter<String> stringAdapter;
+
+        private RegisterQueuedFunctionRequestAdapter(Gson gson) {
+            stringAdapter = gson.getAdapter(String.class);
+        }
+
+        @Override
+        public void write(JsonWriter out, RegisterQueuedFunctionRequest value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.name("AzureResourceId").value(value.AzureResourceId);
+            out.name("ConnectionString").value(value.ConnectionString);
+            PlayFabJson.writeMap(out.name("CustomTags"), value.CustomTags, stringAdapter);
+            out.name("FunctionName").value(value.FunctionName);
+            out.name("QueueName").value(value.QueueName);
+            out.name("TitleId").value(value.TitleId);
+            out.endObject();
+        }
+
+        @Override
+        public RegisterQueuedFunctionRequest read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            RegisterQueuedFunctionRequest value = new RegisterQueuedFunctionRequest();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "AzureResourceId": value.AzureResourceId = PlayFabJson.readString(in); break;
+                        case "ConnectionString": value.ConnectionString = PlayFabJson.readString(in); break;
+                        case "CustomTags": value.CustomTags = PlayFabJson.readMap(in, stringAdapter); break;
+                        case "FunctionName": value.FunctionName = PlayFabJson.readString(in); break;
+                        case "QueueName": value.QueueName = PlayFabJson.readString(in); break;
+                        case "TitleId": value.TitleId = PlayFabJson.readString(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class ScriptExecutionErrorAdapter extends TypeAdapter<ScriptExecutionError> {
+        private ScriptExecutionErrorAdapter(Gson gson) {
+        }
+
+        @Override
+        public void write(JsonWriter out, ScriptExecutionError value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.name("Error").value(value.Error);
+            out.name("Message").value(value.Message);
+            out.name("StackTrace").value(value.StackTrace);
+            out.endObject();
+        }
+
+        @Override
+        public ScriptExecutionError read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            ScriptExecutionError value = new ScriptExecutionError();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "Error": value.Error = PlayFabJson.readString(in); break;
+                        case "Message": value.Message = PlayFabJson.readString(in); break;
+                        case "StackTrace": value.StackTrace = PlayFabJson.readString(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class StatisticModelAdapter extends TypeAdapter<StatisticModel> {
+        private StatisticModelAdapter(Gson gson) {
+        }
+
+        @Override
+        public void write(JsonWriter out, StatisticModel value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.name("Name").value(value.Name);
+            out.name("Value").value(value.Value);
+            out.name("Version").value(value.Version);
+            out.endObject();
+        }
+
+        @Override
+        public StatisticModel read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            StatisticModel value = new StatisticModel();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "Name": value.Name = PlayFabJson.readString(in); break;
+                        case "Value": value.Value = PlayFabJson.readInteger(in); break;
+                        case "Version": value.Version = PlayFabJson.readInteger(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class SubscriptionModelAdapter extends TypeAdapter<SubscriptionModel> {
+        private final TypeAdapter<Date> dateAdapter;
+        private final TypeAdapter<SubscriptionProviderStatus> subscriptionProviderStatusAdapter;
+
+        private SubscriptionModelAdapter(Gson gson) {
+            dateAdapter = gson.getAdapter(Date.class);
+            subscriptionProviderStatusAdapter = gson.getAdapter(SubscriptionProviderStatus.class);
+        }
+
+        @Override
+        public void write(JsonWriter out, SubscriptionModel value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            dateAdapter.write(out.name("Expiration"), value.Expiration);
+            dateAdapter.write(out.name("InitialSubscriptionTime"), value.InitialSubscriptionTime);
+            out.name("IsActive").value(value.IsActive);
+            subscriptionProviderStatusAdapter.write(out.name("Status"), value.Status);
+            out.name("SubscriptionId").value(value.SubscriptionId);
+            out.name("SubscriptionItemId").value(value.SubscriptionItemId);
+            out.name("SubscriptionProvider").value(value.SubscriptionProvider);
+            out.endObject();
+        }
+
+        @Override
+        public SubscriptionModel read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            SubscriptionModel value = new SubscriptionModel();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "Expiration": value.Expiration = dateAdapter.read(in); break;
+                        case "InitialSubscriptionTime": value.InitialSubscriptionTime = dateAdapter.read(in); break;
+                        case "IsActive": value.IsActive = PlayFabJson.readBoolean(in); break;
+                        case "Status": value.Status = subscriptionProviderStatusAdapter.read(in); break;
+                        case "SubscriptionId": value.SubscriptionId = PlayFabJson.readString(in); break;
+                        case "SubscriptionItemId": value.SubscriptionItemId = PlayFabJson.readString(in); break;
+                        case "SubscriptionProvider": value.SubscriptionProvider = PlayFabJson.readString(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class TagModelAdapter extends TypeAdapter<TagModel> {
+        private TagModelAdapter(Gson gson) {
+        }
+
+        @Override
+        public void write(JsonWriter out, TagModel value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.name("TagValue").value(value.TagValue);
+            out.endObject();
+        }
+
+        @Override
+        public TagModel read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            TagModel value = new TagModel();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "TagValue": value.TagValue = PlayFabJson.readString(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class UnregisterFunctionRequestAdapter extends TypeAdapter<UnregisterFunctionRequest> {
+        private final TypeAdapter<String> stringAdapter;
+
+        private UnregisterFunctionRequestAdapter(Gson gson) {
+            stringAdapter = gson.getAdapter(String.class);
+        }
+
+        @Override
+        public void write(JsonWriter out, UnregisterFunctionRequest value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            PlayFabJson.writeMap(out.name("CustomTags"), value.CustomTags, stringAdapter);
+            out.name("FunctionName").value(value.FunctionName);
+            out.name("TitleId").value(value.TitleId);
+            out.endObject();
+        }
+
+        @Override
+        public UnregisterFunctionRequest read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            UnregisterFunctionRequest value = new UnregisterFunctionRequest();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "CustomTags": value.CustomTags = PlayFabJson.readMap(in, stringAdapter); break;
+                        case "FunctionName": value.FunctionName = PlayFabJson.readString(in); break;
+                        case "TitleId": value.TitleId = PlayFabJson.readString(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class ValueToDateModelAdapter extends TypeAdapter<ValueToDateModel> {
+        private ValueToDateModelAdapter(Gson gson) {
+        }
+
+        @Override
+        public void write(JsonWriter out, ValueToDateModel value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.name("Currency").value(value.Currency);
+            out.name("TotalValue").value(value.TotalValue);
+            out.name("TotalValueAsDecimal").value(value.TotalValueAsDecimal);
+            out.endObject();
+        }
+
+        @Override
+        public ValueToDateModel read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            ValueToDateModel value = new ValueToDateModel();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "Currency": value.Currency = PlayFabJson.readString(in); break;
+                        case "TotalValue": value.TotalValue = PlayFabJson.readLong(in); break;
+                        case "TotalValueAsDecimal": value.TotalValueAsDecimal = PlayFabJson.readString(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+}
@@ -0,0 +1,231 @@
+package com.playfab;
+
+import com.playfab.internal.*;
+import com.playfab.PlayFabDataModels.*;
+import com.playfab.PlayFabErrors.*;
+import com.playfab.PlayFabSettings;
+import java.util.concurrent.*;
+import java.util.*;
+
+    /**
+     * The calls of PlayFabDataAPI, made with a PlayFabApiContext of this object's own instead of PlayFabSettings. Login
+     * and GetEntityToken calls keep the credentials they return in that context
+     */
+public class PlayFabDataInstanceAPI extends PlayFabInstanceAPI {
+    private final Async async = new Async();
+
+    public PlayFabDataInstanceAPI(PlayFabApiContext context) {
+        super(context);
+    }
+
+    /**
+     * Abort pending file uploads to an entity's profile.
+     * @param request AbortFileUploadsRequest
+     * @return AbortFileUploadsResponse
+     */
+    public PlayFabResult<AbortFileUploadsResponse> AbortFileUploads(final AbortFileUploadsRequest request) {
+        try {
+            return PlayFabDataAPI.privateAbortFileUploadsAsync(this, request);
+        } catch(Exception e) {
+            PlayFabResult<AbortFileUploadsResponse> exceptionResult = new PlayFabResult<AbortFileUploadsResponse>();
+            exceptionResult.Error = PlayFabHTTP.GeneratePfError(-1, PlayFabErrorCode.Unknown, e.getMessage(), null, null);
+            return exceptionResult;
+        }
+    }
+
+    /**
+     * Delete files on an entity's profile.
+     * @param request DeleteFilesRequest
+     * @return DeleteFilesResponse
+     */
+    public PlayFabResult<DeleteFilesResponse> DeleteFiles(final DeleteFilesRequest request) {
+        try {
+            return PlayFabDataAPI.privateDeleteFilesAsync(this, request);
+        } catch(Exception e) {
+            PlayFabResult<DeleteFilesResponse> exceptionResult = new PlayFabResult<DeleteFilesResponse>();
+            exceptionResult.Error = PlayFabHTTP.GeneratePfError(-1, PlayFabErrorCode.Unknown, e.getMessage(), null, null);
+            return exceptionResult;
+        }
+    }
+
+    /**
+     * Finalize file uploads to an entity's profile.
+     * @param request FinalizeFileUploadsRequest
+     * @return FinalizeFileUploadsResponse
+     */
+    public PlayFabResult<FinalizeFileUploadsResponse> FinalizeFileUploads(final FinalizeFileUploadsRequest request) {
+        try {
+            return PlayFabDataAPI.privateFinalizeFileUploadsAsync(this, request);
+        } catch(Exception e) {
+            PlayFabResult<FinalizeFileUploadsResponse> exceptionResult = new PlayFabResult<FinalizeFileUploadsResponse>();
+            exceptionResult.Error = PlayFabHTTP.GeneratePfError(-1, PlayFabErrorCode.Unknown, e.getMessage(), null, null);
+            return exceptionResult;
+        }
+    }
+
+    /**
+     * Retrieves file metadata from an entity's profile.
+     * @param request GetFilesRequest
+     * @return GetFilesResponse
+     */
+    public PlayFabResult<GetFilesResponse> GetFiles(final GetFilesRequest request) {
+        try {
+            return PlayFabDataAPI.privateGetFilesAsync(this, request);
+        } catch(Exception e) {
+            PlayFabResult<GetFilesResponse> exceptionResult = new PlayFabResult<GetFilesResponse>();
+            exceptionResult.Error = PlayFabHTTP.GeneratePfError(-1, PlayFabErrorCode.Unknown, e.getMessage(), null, null);
+            return exceptionResult;
+        }
+    }
+
+    /**
+     * Retrieves objects from an entity's profile.
+     * @param request GetObjectsRequest
+     * @return GetObjectsResponse
+     */
+    public PlayFabResult<GetObjectsResponse> GetObjects(final GetObjectsRequest request) {
+        try {
+            return PlayFabDataAPI.privateGetObjectsAsync(this, request);
+        } catch(Exception e) {
+            PlayFabResult<GetObjectsResponse> exceptionResult = new PlayFabResult<GetObjectsResponse>();
+            exceptionResult.Error = PlayFabHTTP.GeneratePfError(-1, PlayFabErrorCode.Unknown, e.getMessage(), null, null);
+            return exceptionResult;
+        }
+    }
+
+    /**
+     * Initiates file uploads to an entity's profile.
+     * @param request InitiateFileUploadsRequest
+     * @return InitiateFileUploadsResponse
+     */
+    public PlayFabResult<InitiateFileUploadsResponse> InitiateFileUploads(final InitiateFileUploadsRequest request) {
+        try {
+            return PlayFabDataAPI.privateInitiateFileUploadsAsync(this, request);
+        } catch(Exception e) {
+            PlayFabResult<InitiateFileUploadsResponse> exceptionResult = new PlayFabResult<InitiateFileUploadsResponse>();
+            exceptionResult.Error = PlayFabHTTP.GeneratePfError(-1, PlayFabErrorCode.Unknown, e.getMessage(), null, null);
+            return exceptionResult;
+        }
+    }
+
+    /**
+     * Sets objects on an entity's profile.
+     * @param request SetObjectsRequest
+     * @return SetObjectsResponse
+     */
+    public PlayFabResult<SetObjectsResponse> SetObjects(final SetObjectsRequest request) {
+        try {
+            return PlayFabDataAPI.privateSetObjectsAsync(this, request);
+        } catch(Exception e) {
+            PlayFabResult<SetObjectsResponse> exceptionResult = new PlayFabResult<SetObjectsResponse>();
+            exceptionResult.Error = PlayFabHTTP.GeneratePfError(-1, PlayFabErrorCode.Unknown, e.getMessage(), null, null);
+            return exceptionResult;
+        }
+    }
+
+    /**
+     * @return Non-blocking versions of every call, made with this object's context and started on PlayFabSettings.AsyncExecutor
+     */
+    public Async async() {
+        return async;
+    }
+
+    /**
+     * Non-blocking versions of the PlayFabDataInstanceAPI calls. Each call is already running when its PlayFabFuture is returned.
+     */
+    public class Async {
+        private Async() {
+        }
+
+        /**
+         * Abort pending file uploads to an entity's profile.
+         * @param request AbortFileUploadsRequest
+         * @return Running future that will complete with AbortFileUploadsResponse
+         */
+        public PlayFabFuture<PlayFabResult<AbortFileUploadsResponse>> AbortFileUploads(final AbortFileUploadsRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<AbortFileUploadsResponse>>() {
+                public PlayFabResult<AbortFileUploadsResponse> call() throws Exception {
+                    return PlayFabDataAPI.privateAbortFileUploadsAsync(PlayFabDataInstanceAPI.this, request);
+                }
+            });
+        }
+
+        /**
+         * Delete files on an entity's profile.
+         * @param request DeleteFilesRequest
+         * @return Running future that will complete with DeleteFilesResponse
+         */
+        public PlayFabFuture<PlayFabResult<DeleteFilesResponse>> DeleteFiles(final DeleteFilesRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<DeleteFilesResponse>>() {
+                public PlayFabResult<DeleteFilesResponse> call() throws Exception {
+                    return PlayFabDataAPI.privateDeleteFilesAsync(PlayFabDataInstanceAPI.this, request);
+                }
+            });
+        }
+
+        /**
+         * Finalize file uploads to an entity's profile.
+         * @param request FinalizeFileUploadsRequest
+         * @return Running future that will complete with FinalizeFileUploadsResponse
+         */
+        public PlayFabFuture<PlayFabResult<FinalizeFileUploadsResponse>> FinalizeFileUploads(final FinalizeFileUploadsRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<FinalizeFileUploadsResponse>>() {
+                public PlayFabResult<FinalizeFileUploadsResponse> call() throws Exception {
+                    return PlayFabDataAPI.privateFinalizeFileUploadsAsync(PlayFabDataInstanceAPI.this, request);
+                }
+            });
+        }
+
+        /**
+         * Retrieves file metadata from an entity's profile.
+         * @param request GetFilesRequest
+         * @return Running future that will complete with GetFilesResponse
+         */
+        public PlayFabFuture<PlayFabResult<GetFilesResponse>> GetFiles(final GetFilesRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<GetFilesResponse>>() {
+                public PlayFabResult<GetFilesResponse> call() throws Exception {
+                    return PlayFabDataAPI.privateGetFilesAsync(PlayFabDataInstanceAPI.this, request);
+                }
+            });
+        }
+
+        /**
+         * Retrieves objects from an entity's profile.
+         * @param request GetObjectsRequest
+         * @return Running future that will complete with GetObjectsResponse
+         */
+        public PlayFabFuture<PlayFabResult<GetObjectsResponse>> GetObjects(final GetObjectsRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<GetObjectsResponse>>() {
+                public PlayFabResult<GetObjectsResponse> call() throws Exception {
+                    return PlayFabDataAPI.privateGetObjectsAsync(PlayFabDataInstanceAPI.this, request);
+                }
+            });
+        }
+
+        /**
+         * Initiates file uploads to an entity's profile.
+         * @param request InitiateFileUploadsRequest
+         * @return Running future that will complete with InitiateFileUploadsResponse
+         */
+        public PlayFabFuture<PlayFabResult<InitiateFileUploadsResponse>> InitiateFileUploads(final InitiateFileUploadsRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<InitiateFileUploadsResponse>>() {
+                public PlayFabResult<InitiateFileUploadsResponse> call() throws Exception {
+                    return PlayFabDataAPI.privateInitiateFileUploadsAsync(PlayFabDataInstanceAPI.this, request);
+                }
+            });
+        }
+
+        /**
+         * Sets objects on an entity's profile.
+         * @param request SetObjectsRequest
+         * @return Running future that will complete with SetObjectsResponse
+         */
+        public PlayFabFuture<PlayFabResult<SetObjectsResponse>> SetObjects(final SetObjectsRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<SetObjectsResponse>>() {
+                public PlayFabResult<SetObjectsResponse> call() throws Exception {
+                    return PlayFabDataAPI.privateSetObjectsAsync(PlayFabDataInstanceAPI.this, request);
+                }
+            });
+        }
+    }
+}
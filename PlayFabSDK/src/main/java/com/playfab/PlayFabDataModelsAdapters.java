@@ -0,0 +1,972 @@
+package com.playfab;
+
+import java.io.IOException;
+import java.util.Date;
+import com.google.gson.*;
+import com.google.gson.reflect.TypeToken;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
+import com.playfab.PlayFabDataModels.*;
+import com.playfab.internal.PlayFabJson;
+
+/**
+ * Streaming TypeAdapters for every class in PlayFabDataModels, so models are read and written without field reflection.
+ * PlayFabJson finds FACTORY through this class name. Enums keep Gson's own adapters, which do no per-call reflection.
+ * Generated from PlayFabDataModels by PlayFabModelAdaptersGenerator, in the PlayFabSDK tests: regenerate rather than edit.
+ */
+public class PlayFabDataModelsAdapters {
+    public static final TypeAdapterFactory FACTORY = new TypeAdapterFactory() {
+        @SuppressWarnings("unchecked")
+        public <T> TypeAdapter<T> create(Gson gson, TypeToken<T> type) {
+            Class<?> raw = type.getRawType();
+            if (raw.getDeclaringClass() != PlayFabDataModels.class)
+                return null;
+            switch (raw.getSimpleName()) {
+                case "AbortFileUploadsRequest": return (TypeAdapter<T>) new AbortFileUploadsRequestAdapter(gson);
+                case "AbortFileUploadsResponse": return (TypeAdapter<T>) new AbortFileUploadsResponseAdapter(gson);
+                case "DeleteFilesRequest": return (TypeAdapter<T>) new DeleteFilesRequestAdapter(gson);
+                case "DeleteFilesResponse": return (TypeAdapter<T>) new DeleteFilesResponseAdapter(gson);
+                case "EntityKey": return (TypeAdapter<T>) new EntityKeyAdapter(gson);
+                case "FinalizeFileUploadsRequest": return (TypeAdapter<T>) new FinalizeFileUploadsRequestAdapter(gson);
+                case "FinalizeFileUploadsResponse": return (TypeAdapter<T>) new FinalizeFileUploadsResponseAdapter(gson);
+                case "GetFileMetadata": return (TypeAdapter<T>) new GetFileMetadataAdapter(gson);
+                case "GetFilesRequest": return (TypeAdapter<T>) new GetFilesRequestAdapter(gson);
+                case "GetFilesResponse": return (TypeAdapter<T>) new GetFilesResponseAdapter(gson);
+                case "GetObjectsRequest": return (TypeAdapter<T>) new GetObjectsRequestAdapter(gson);
+                case "GetObjectsResponse": return (TypeAdapter<T>) new GetObjectsResponseAdapter(gson);
+                case "InitiateFileUploadMetadata": return (TypeAdapter<T>) new InitiateFileUploadMetadataAdapter(gson);
+                case "InitiateFileUploadsRequest": return (TypeAdapter<T>) new InitiateFileUploadsRequestAdapter(gson);
+                case "InitiateFileUploadsResponse": return (TypeAdapter<T>) new InitiateFileUploadsResponseAdapter(gson);
+                case "ObjectResult": return (TypeAdapter<T>) new ObjectResultAdapter(gson);
+                case "SetObject": return (TypeAdapter<T>) new SetObjectAdapter(gson);
+                case "SetObjectInfo": return (TypeAdapter<T>) new SetObjectInfoAdapter(gson);
+                case "SetObjectsRequest": return (TypeAdapter<T>) new SetObjectsRequestAdapter(gson);
+                case "SetObjectsResponse": return (TypeAdapter<T>) new SetObjectsResponseAdapter(gson);
+                default: return null;
+            }
+        }
+    };
+
+    private static class AbortFileUploadsRequestAdapter extends TypeAdapter<AbortFileUploadsRequest> {
+        private final TypeAdapter<String> stringAdapter;
+        private final TypeAdapter<EntityKey> entityKeyAdapter;
+
+        private AbortFileUploadsRequestAdapter(Gson gson) {
+            stringAdapter = gson.getAdapter(String.class);
+            entityKeyAdapter = gson.getAdapter(EntityKey.class);
+        }
+
+        @Override
+        public void write(JsonWriter out, AbortFileUploadsRequest value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            PlayFabJson.writeMap(out.name("CustomTags"), value.CustomTags, stringAdapter);
+            entityKeyAdapter.write(out.name("Entity"), value.Entity);
+            PlayFabJson.writeList(out.name("FileNames"), value.FileNames, stringAdapter);
+            out.name("ProfileVersion").value(value.ProfileVersion);
+            out.endObject();
+        }
+
+        @Override
+        public AbortFileUploadsRequest read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            AbortFileUploadsRequest value = new AbortFileUploadsRequest();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "CustomTags": value.CustomTags = PlayFabJson.readMap(in, stringAdapter); break;
+                        case "Entity": value.Entity = entityKeyAdapter.read(in); break;
+                        case "FileNames": value.FileNames = PlayFabJson.readList(in, stringAdapter); break;
+                        case "ProfileVersion": value.ProfileVersion = PlayFabJson.readInteger(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class AbortFileUploadsResponseAdapter extends TypeAdapter<AbortFileUploadsResponse> {
+        private final TypeAdapter<EntityKey> entityKeyAdapter;
+
+        private AbortFileUploadsResponseAdapter(Gson gson) {
+            entityKeyAdapter = gson.getAdapter(EntityKey.class);
+        }
+
+        @Override
+        public void write(JsonWriter out, AbortFileUploadsResponse value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            entityKeyAdapter.write(out.name("Entity"), value.Entity);
+            out.name("ProfileVersion").value(value.ProfileVersion);
+            out.endObject();
+        }
+
+        @Override
+        public AbortFileUploadsResponse read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            AbortFileUploadsResponse value = new AbortFileUploadsResponse();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "Entity": value.Entity = entityKeyAdapter.read(in); break;
+                        case "ProfileVersion": value.ProfileVersion = PlayFabJson.readInteger(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class DeleteFilesRequestAdapter extends TypeAdapter<DeleteFilesRequest> {
+        private final TypeAdapter<String> stringAdapter;
+        private final TypeAdapter<EntityKey> entityKeyAdapter;
+
+        private DeleteFilesRequestAdapter(Gson gson) {
+            stringAdapter = gson.getAdapter(String.class);
+            entityKeyAdapter = gson.getAdapter(EntityKey.class);
+        }
+
+        @Override
+        public void write(JsonWriter out, DeleteFilesRequest value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            PlayFabJson.writeMap(out.name("CustomTags"), value.CustomTags, stringAdapter);
+            entityKeyAdapter.write(out.name("Entity"), value.Entity);
+            PlayFabJson.writeList(out.name("FileNames"), value.FileNames, stringAdapter);
+            out.name("ProfileVersion").value(value.ProfileVersion);
+            out.endObject();
+        }
+
+        @Override
+        public DeleteFilesRequest read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            DeleteFilesRequest value = new DeleteFilesRequest();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "CustomTags": value.CustomTags = PlayFabJson.readMap(in, stringAdapter); break;
+                        case "Entity": value.Entity = entityKeyAdapter.read(in); break;
+                        case "FileNames": value.FileNames = PlayFabJson.readList(in, stringAdapter); break;
+                        case "ProfileVersion": value.ProfileVersion = PlayFabJson.readInteger(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class DeleteFilesResponseAdapter extends TypeAdapter<DeleteFilesResponse> {
+        private final TypeAdapter<EntityKey> entityKeyAdapter;
+
+        private DeleteFilesResponseAdapter(Gson gson) {
+            entityKeyAdapter = gson.getAdapter(EntityKey.class);
+        }
+
+        @Override
+        public void write(JsonWriter out, DeleteFilesResponse value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            entityKeyAdapter.write(out.name("Entity"), value.Entity);
+            out.name("ProfileVersion").value(value.ProfileVersion);
+            out.endObject();
+        }
+
+        @Override
+        public DeleteFilesResponse read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            DeleteFilesResponse value = new DeleteFilesResponse();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "Entity": value.Entity = entityKeyAdapter.read(in); break;
+                        case "ProfileVersion": value.ProfileVersion = PlayFabJson.readInteger(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class EntityKeyAdapter extends TypeAdapter<EntityKey> {
+        private EntityKeyAdapter(Gson gson) {
+        }
+
+        @Override
+        public void write(JsonWriter out, EntityKey value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.name("Id").value(value.Id);
+            out.name("Type").value(value.Type);
+            out.endObject();
+        }
+
+        @Override
+        public EntityKey read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            EntityKey value = new EntityKey();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "Id": value.Id = PlayFabJson.readString(in); break;
+                        case "Type": value.Type = PlayFabJson.readString(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class FinalizeFileUploadsRequestAdapter extends TypeAdapter<FinalizeFileUploadsRequest> {
+        private final TypeAdapter<String> stringAdapter;
+        private final TypeAdapter<EntityKey> entityKeyAdapter;
+
+        private FinalizeFileUploadsRequestAdapter(Gson gson) {
+            stringAdapter = gson.getAdapter(String.class);
+            entityKeyAdapter = gson.getAdapter(EntityKey.class);
+        }
+
+        @Override
+        public void write(JsonWriter out, FinalizeFileUploadsRequest value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            PlayFabJson.writeMap(out.name("CustomTags"), value.CustomTags, stringAdapter);
+            entityKeyAdapter.write(out.name("Entity"), value.Entity);
+            PlayFabJson.writeList(out.name("FileNames"), value.FileNames, stringAdapter);
+            out.name("ProfileVersion").value(value.ProfileVersion);
+            out.endObject();
+        }
+
+        @Override
+        public FinalizeFileUploadsRequest read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            FinalizeFileUploadsRequest value = new FinalizeFileUploadsRequest();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "CustomTags": value.CustomTags = PlayFabJson.readMap(in, stringAdapter); break;
+                        case "Entity": value.Entity = entityKeyAdapter.read(in); break;
+                        case "FileNames": value.FileNames = PlayFabJson.readList(in, stringAdapter); break;
+                        case "ProfileVersion": value.ProfileVersion = PlayFabJson.readInteger(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class FinalizeFileUploadsResponseAdapter extends TypeAdapter<FinalizeFileUploadsResponse> {
+        private final TypeAdapter<EntityKey> entityKeyAdapter;
+        private final TypeAdapter<GetFileMetadata> getFileMetadataAdapter;
+
+        private FinalizeFileUploadsResponseAdapter(Gson gson) {
+            entityKeyAdapter = gson.getAdapter(EntityKey.class);
+            getFileMetadataAdapter = gson.getAdapter(GetFileMetadata.class);
+        }
+
+        @Override
+        public void write(JsonWriter out, FinalizeFileUploadsResponse value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            entityKeyAdapter.write(out.name("Entity"), value.Entity);
+            PlayFabJson.writeMap(out.name("Metadata"), value.Metadata, getFileMetadataAdapter);
+            out.name("ProfileVersion").value(value.ProfileVersion);
+            out.endObject();
+        }
+
+        @Override
+        public FinalizeFileUploadsResponse read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            FinalizeFileUploadsResponse value = new FinalizeFileUploadsResponse();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "Entity": value.Entity = entityKeyAdapter.read(in); break;
+                        case "Metadata": value.Metadata = PlayFabJson.readMap(in, getFileMetadataAdapter); break;
+                        case "ProfileVersion": value.ProfileVersion = PlayFabJson.readInteger(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class GetFileMetadataAdapter extends TypeAdapter<GetFileMetadata> {
+        private final TypeAdapter<Date> dateAdapter;
+
+        private GetFileMetadataAdapter(Gson gson) {
+            dateAdapter = gson.getAdapter(Date.class);
+        }
+
+        @Override
+        public void write(JsonWriter out, GetFileMetadata value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.name("Checksum").value(value.Checksum);
+            out.name("DownloadUrl").value(value.DownloadUrl);
+            out.name("FileName").value(value.FileName);
+            dateAdapter.write(out.name("LastModified"), value.LastModified);
+            out.name("Size").value(value.Size);
+            out.endObject();
+        }
+
+        @Override
+        public GetFileMetadata read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            GetFileMetadata value = new GetFileMetadata();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "Checksum": value.Checksum = PlayFabJson.readString(in); break;
+                        case "DownloadUrl": value.DownloadUrl = PlayFabJson.readString(in); break;
+                        case "FileName": value.FileName = PlayFabJson.readString(in); break;
+                        case "LastModified": value.LastModified = dateAdapter.read(in); break;
+                        case "Size": value.Size = PlayFabJson.readInteger(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class GetFilesRequestAdapter extends TypeAdapter<GetFilesRequest> {
+        private final TypeAdapter<String> stringAdapter;
+        private final TypeAdapter<EntityKey> entityKeyAdapter;
+
+        private GetFilesRequestAdapter(Gson gson) {
+            stringAdapter = gson.getAdapter(String.class);
+            entityKeyAdapter = gson.getAdapter(EntityKey.class);
+        }
+
+        @Override
+        public void write(JsonWriter out, GetFilesRequest value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            PlayFabJson.writeMap(out.name("CustomTags"), value.CustomTags, stringAdapter);
+            entityKeyAdapter.write(out.name("Entity"), value.Entity);
+            out.endObject();
+        }
+
+        @Override
+        public GetFilesRequest read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            GetFilesRequest value = new GetFilesRequest();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "CustomTags": value.CustomTags = PlayFabJson.readMap(in, stringAdapter); break;
+                        case "Entity": value.Entity = entityKeyAdapter.read(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class GetFilesResponseAdapter extends TypeAdapter<GetFilesResponse> {
+        private final TypeAdapter<EntityKey> entityKeyAdapter;
+        private final TypeAdapter<GetFileMetadata> getFileMetadataAdapter;
+
+        private GetFilesResponseAdapter(Gson gson) {
+            entityKeyAdapter = gson.getAdapter(EntityKey.class);
+            getFileMetadataAdapter = gson.getAdapter(GetFileMetadata.class);
+        }
+
+        @Override
+        public void write(JsonWriter out, GetFilesResponse value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            entityKeyAdapter.write(out.name("Entity"), value.Entity);
+            PlayFabJson.writeMap(out.name("Metadata"), value.Metadata, getFileMetadataAdapter);
+            out.name("ProfileVersion").value(value.ProfileVersion);
+            out.endObject();
+        }
+
+        @Override
+        public GetFilesResponse read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            GetFilesResponse value = new GetFilesResponse();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "Entity": value.Entity = entityKeyAdapter.read(in); break;
+                        case "Metadata": value.Metadata = PlayFabJson.readMap(in, getFileMetadataAdapter); break;
+                        case "ProfileVersion": value.ProfileVersion = PlayFabJson.readInteger(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class GetObjectsRequestAdapter extends TypeAdapter<GetObjectsRequest> {
+        private final TypeAdapter<String> stringAdapter;
+        private final TypeAdapter<EntityKey> entityKeyAdapter;
+
+        private GetObjectsRequestAdapter(Gson gson) {
+            stringAdapter = gson.getAdapter(String.class);
+            entityKeyAdapter = gson.getAdapter(EntityKey.class);
+        }
+
+        @Override
+        public void write(JsonWriter out, GetObjectsRequest value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            PlayFabJson.writeMap(out.name("CustomTags"), value.CustomTags, stringAdapter);
+            entityKeyAdapter.write(out.name("Entity"), value.Entity);
+            out.name("EscapeObject").value(value.EscapeObject);
+            out.endObject();
+        }
+
+        @Override
+        public GetObjectsRequest read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            GetObjectsRequest value = new GetObjectsRequest();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "CustomTags": value.CustomTags = PlayFabJson.readMap(in, stringAdapter); break;
+                        case "Entity": value.Entity = entityKeyAdapter.read(in); break;
+                        case "EscapeObject": value.EscapeObject = PlayFabJson.readBoolean(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class GetObjectsResponseAdapter extends TypeAdapter<GetObjectsResponse> {
+        private final TypeAdapter<EntityKey> entityKeyAdapter;
+        private final TypeAdapter<ObjectResult> objectResultAdapter;
+
+        private GetObjectsResponseAdapter(Gson gson) {
+            entityKeyAdapter = gson.getAdapter(EntityKey.class);
+            objectResultAdapter = gson.getAdapter(ObjectResult.class);
+        }
+
+        @Override
+        public void write(JsonWriter out, GetObjectsResponse value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            entityKeyAdapter.write(out.name("Entity"), value.Entity);
+            PlayFabJson.writeMap(out.name("Objects"), value.Objects, objectResultAdapter);
+            out.name("ProfileVersion").value(value.ProfileVersion);
+            out.endObject();
+        }
+
+        @Override
+        public GetObjectsResponse read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            GetObjectsResponse value = new GetObjectsResponse();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "Entity": value.Entity = entityKeyAdapter.read(in); break;
+                        case "Objects": value.Objects = PlayFabJson.readMap(in, objectResultAdapter); break;
+                        case "ProfileVersion": value.ProfileVersion = PlayFabJson.readInteger(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class InitiateFileUploadMetadataAdapter extends TypeAdapter<InitiateFileUploadMetadata> {
+        private InitiateFileUploadMetadataAdapter(Gson gson) {
+        }
+
+        @Override
+        public void write(JsonWriter out, InitiateFileUploadMetadata value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.name("FileName").value(value.FileName);
+            out.name("UploadUrl").value(value.UploadUrl);
+            out.endObject();
+        }
+
+        @Override
+        public InitiateFileUploadMetadata read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            InitiateFileUploadMetadata value = new InitiateFileUploadMetadata();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "FileName": value.FileName = PlayFabJson.readString(in); break;
+                        case "UploadUrl": value.UploadUrl = PlayFabJson.readString(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class InitiateFileUploadsRequestAdapter extends TypeAdapter<InitiateFileUploadsRequest> {
+        private final TypeAdapter<String> stringAdapter;
+        private final TypeAdapter<EntityKey> entityKeyAdapter;
+
+        private InitiateFileUploadsRequestAdapter(Gson gson) {
+            stringAdapter = gson.getAdapter(String.class);
+            entityKeyAdapter = gson.getAdapter(EntityKey.class);
+        }
+
+        @Override
+        public void write(JsonWriter out, InitiateFileUploadsRequest value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            PlayFabJson.writeMap(out.name("CustomTags"), value.CustomTags, stringAdapter);
+            entityKeyAdapter.write(out.name("Entity"), value.Entity);
+            PlayFabJson.writeList(out.name("FileNames"), value.FileNames, stringAdapter);
+            out.name("ProfileVersion").value(value.ProfileVersion);
+            out.endObject();
+        }
+
+        @Override
+        public InitiateFileUploadsRequest read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            InitiateFileUploadsRequest value = new InitiateFileUploadsRequest();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "CustomTags": value.CustomTags = PlayFabJson.readMap(in, stringAdapter); break;
+                        case "Entity": value.Entity = entityKeyAdapter.read(in); break;
+                        case "FileNames": value.FileNames = PlayFabJson.readList(in, stringAdapter); break;
+                        case "ProfileVersion": value.ProfileVersion = PlayFabJson.readInteger(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class InitiateFileUploadsResponseAdapter extends TypeAdapter<InitiateFileUploadsResponse> {
+        private final TypeAdapter<EntityKey> entityKeyAdapter;
+        private final TypeAdapter<InitiateFileUploadMetadata> initiateFileUploadMetadataAdapter;
+
+        private InitiateFileUploadsResponseAdapter(Gson gson) {
+            entityKeyAdapter = gson.getAdapter(EntityKey.class);
+            initiateFileUploadMetadataAdapter = gson.getAdapter(InitiateFileUploadMetadata.class);
+        }
+
+        @Override
+        public void write(JsonWriter out, InitiateFileUploadsResponse value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            entityKeyAdapter.write(out.name("Entity"), value.Entity);
+            out.name("ProfileVersion").value(value.ProfileVersion);
+            PlayFabJson.writeList(out.name("UploadDetails"), value.UploadDetails, initiateFileUploadMetadataAdapter);
+            out.endObject();
+        }
+
+        @Override
+        public InitiateFileUploadsResponse read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            InitiateFileUploadsResponse value = new InitiateFileUploadsResponse();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "Entity": value.Entity = entityKeyAdapter.read(in); break;
+                        case "ProfileVersion": value.ProfileVersion = PlayFabJson.readInteger(in); break;
+                        case "UploadDetails": value.UploadDetails = PlayFabJson.readList(in, initiateFileUploadMetadataAdapter); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class ObjectResultAdapter extends TypeAdapter<ObjectResult> {
+        private final TypeAdapter<Object> objectAdapter;
+
+        private ObjectResultAdapter(Gson gson) {
+            objectAdapter = gson.getAdapter(Object.class);
+        }
+
+        @Override
+        public void write(JsonWriter out, ObjectResult value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            objectAdapter.write(out.name("DataObject"), value.DataObject);
+            out.name("EscapedDataObject").value(value.EscapedDataObject);
+            out.name("ObjectName").value(value.ObjectName);
+            out.endObject();
+        }
+
+        @Override
+        public ObjectResult read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            ObjectResult value = new ObjectResult();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "DataObject": value.DataObject = objectAdapter.read(in); break;
+                        case "EscapedDataObject": value.EscapedDataObject = PlayFabJson.readString(in); break;
+                        case "ObjectName": value.ObjectName = PlayFabJson.readString(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class SetObjectAdapter extends TypeAdapter<SetObject> {
+        private final TypeAdapter<Object> objectAdapter;
+
+        private SetObjectAdapter(Gson gson) {
+            objectAdapter = gson.getAdapter(Object.class);
+        }
+
+        @Override
+        public void write(JsonWriter out, SetObject value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            objectAdapter.write(out.name("DataObject"), value.DataObject);
+            out.name("DeleteObject").value(value.DeleteObject);
+            out.name("EscapedDataObject").value(value.EscapedDataObject);
+            out.name("ObjectName").value(value.ObjectName);
+            out.endObject();
+        }
+
+        @Override
+        public SetObject read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            SetObject value = new SetObject();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "DataObject": value.DataObject = objectAdapter.read(in); break;
+                        case "DeleteObject": value.DeleteObject = PlayFabJson.readBoolean(in); break;
+                        case "EscapedDataObject": value.EscapedDataObject = PlayFabJson.readString(in); break;
+                        case "ObjectName": value.ObjectName = PlayFabJson.readString(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class SetObjectInfoAdapter extends TypeAdapter<SetObjectInfo> {
+        private final TypeAdapter<OperationTypes> operationTypesAdapter;
+
+        private SetObjectInfoAdapter(Gson gson) {
+            operationTypesAdapter = gson.getAdapter(OperationTypes.class);
+        }
+
+        @Override
+        public void write(JsonWriter out, SetObjectInfo value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.name("ObjectName").value(value.ObjectName);
+            out.name("OperationReason").value(value.OperationReason);
+            operationTypesAdapter.write(out.name("SetResult"), value.SetResult);
+            out.endObject();
+        }
+
+        @Override
+        public SetObjectInfo read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            SetObjectInfo value = new SetObjectInfo();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "ObjectName": value.ObjectName = PlayFabJson.readString(in); break;
+                        case "OperationReason": value.OperationReason = PlayFabJson.readString(in); break;
+                        case "SetResult": value.SetResult = operationTypesAdapter.read(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class SetObjectsRequestAdapter extends TypeAdapter<SetObjectsRequest> {
+        private final TypeAdapter<String> stringAdapter;
+        private final TypeAdapter<EntityKey> entityKeyAdapter;
+        private final TypeAdapter<SetObject> setObjectAdapter;
+
+        private SetObjectsRequestAdapter(Gson gson) {
+            stringAdapter = gson.getAdapter(String.class);
+            entityKeyAdapter = gson.getAdapter(EntityKey.class);
+            setObjectAdapter = gson.getAdapter(SetObject.class);
+        }
+
+        @Override
+        public void write(JsonWriter out, SetObjectsRequest value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            PlayFabJson.writeMap(out.name("CustomTags"), value.CustomTags, stringAdapter);
+            entityKeyAdapter.write(out.name("Entity"), value.Entity);
+            out.name("ExpectedProfileVersion").value(value.ExpectedProfileVersion);
+            PlayFabJson.writeList(out.name("Objects"), value.Objects, setObjectAdapter);
+            out.endObject();
+        }
+
+        @Override
+        public SetObjectsRequest read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            SetObjectsRequest value = new SetObjectsRequest();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "CustomTags": value.CustomTags = PlayFabJson.readMap(in, stringAdapter); break;
+                        case "Entity": value.Entity = entityKeyAdapter.read(in); break;
+                        case "ExpectedProfileVersion": value.ExpectedProfileVersion = PlayFabJson.readInteger(in); break;
+                        case "Objects": value.Objects = PlayFabJson.readList(in, setObjectAdapter); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class SetObjectsResponseAdapter extends TypeAdapter<SetObjectsResponse> {
+        private final TypeAdapter<SetObjectInfo> setObjectInfoAdapter;
+
+        private SetObjectsResponseAdapter(Gson gson) {
+            setObjectInfoAdapter = gson.getAdapter(SetObjectInfo.class);
+        }
+
+        @Override
+        public void write(JsonWriter out, SetObjectsResponse value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.name("ProfileVersion").value(value.ProfileVersion);
+            PlayFabJson.writeList(out.name("SetResults"), value.SetResults, setObjectInfoAdapter);
+            out.endObject();
+        }
+
+        @Override
+        public SetObjectsResponse read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            SetObjectsResponse value = new SetObjectsResponse();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "ProfileVersion": value.ProfileVersion = PlayFabJson.readInteger(in); break;
+                        case "SetResults": value.SetResults = PlayFabJson.readList(in, setObjectInfoAdapter); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+}
@@ -0,0 +1,631 @@
+package com.playfab;
+
+import java.io.*;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.*;
+import java.util.*;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+import java.util.zip.CRC32;
+
+import com.google.gson.TypeAdapter;
+import com.google.gson.stream.JsonWriter;
+
+import com.playfab.PlayFabErrors.*;
+import com.playfab.PlayFabEventsModels.*;
+import com.playfab.internal.PlayFabExecutors;
+import com.playfab.internal.PlayFabJson;
+import com.playfab.internal.PlayFabUtf8Reader;
+import com.playfab.internal.PlayFabUtf8Writer;
+
+/**
+ * A durable queue of events on disk, drained into WriteTelemetryEvents or WriteEvents by a background sender.
+ *
+ * Events are appended as JSON records to fixed-size, memory-mapped segment files, so an append is a copy into the page
+ * cache and survives a crash of the process. A sync thread forces the segments to disk every SyncIntervalMilliseconds,
+ * and sync() forces them sooner: concurrent callers share one force. The sender reads batches from the oldest
+ * unacknowledged record, and after the service accepts a batch it moves a cursor file past it and deletes segments it
+ * has finished with. Whatever was not acknowledged is replayed the next time a spool opens the directory, so delivery is
+ * at least once. When the segments outgrow MaxSpoolBytes, the oldest are deleted unsent and counted as evicted.
+ *
+ * Only one spool may use a directory at a time.
+ */
+public class PlayFabEventSpool implements Closeable {
+    private static final String SEGMENT_SUFFIX = ".seg";
+    private static final String CURSOR_FILE = "cursor";
+    private static final int RECORD_HEADER = 8; // Payload length, then the CRC32 of the payload
+    // Errors refusing the events themselves, which would refuse them again. Any other error, such as an expired token or
+    // a title not set up for events, keeps the batch to retry once it is fixed
+    private static final Set<PlayFabErrorCode> EVENT_REJECTIONS = EnumSet.of(PlayFabErrorCode.InvalidParams,
+        PlayFabErrorCode.BodyTooLarge, PlayFabErrorCode.ReservedEventName, PlayFabErrorCode.InvalidEventField,
+        PlayFabErrorCode.InvalidEventName, PlayFabErrorCode.EventNamespaceNotAllowed, PlayFabErrorCode.EventEntityNotAllowed,
+        PlayFabErrorCode.InvalidEntityId, PlayFabErrorCode.InvalidEntityType);
+
+    /**
+     * Spool configuration, read when the spool is opened
+     */
+    public static class Settings {
+        public File Directory = null; // Required. Holds the segment files and the cursor
+        public int SegmentBytes = 4 * 1024 * 1024; // Size of each memory-mapped segment file
+        public long MaxSpoolBytes = 64 * 1024 * 1024; // Oldest segments are deleted, unsent, once the spool grows past this
+        public long SyncIntervalMilliseconds = 200; // Appended events reach the disk at least this often
+        public boolean Send = true; // Start the sender. When false the spool only stores and replays
+        public boolean Telemetry = true; // Send through WriteTelemetryEvents, which bypasses PlayStream, instead of WriteEvents
+        public Map<String, String> CustomTags = null; // Request-level tags sent with every batch
+        public int MaxBatchSize = PlayFabEventPipeline.MAX_EVENTS_PER_REQUEST; // Most events per request
+        public long MaxBatchDelayMilliseconds = 1000; // Longest the sender waits for a partial batch to fill
+        public long MinRetryMilliseconds = 1000; // First wait after a failed batch. Doubles on each consecutive failure
+        public long MaxRetryMilliseconds = 60000; // Longest wait between attempts at a failed batch
+    }
+
+    public static class Stats {
+        public long appended;
+        public long replayed; // Unsent events found in the directory when the spool opened
+        public long sent;
+        public long rejected; // Refused by the service as invalid and dropped
+        public long evicted; // Deleted unsent to keep the spool under MaxSpoolBytes
+        public long oversized; // Refused by append() for not fitting in a segment
+        public long pending;
+        public int segments;
+        public long syncs;
+    }
+
+    private static class Segment {
+        private final long sequence;
+        private final File file;
+        private final MappedByteBuffer buffer;
+        private final ByteBuffer appender; // Positioned copy of buffer for bulk appends. Used under the spool lock
+        private volatile int limit; // End of the complete records. Written under the spool lock
+
+        private Segment(long sequence, File file, MappedByteBuffer buffer) {
+            this.sequence = sequence;
+            this.file = file;
+            this.buffer = buffer;
+            this.appender = buffer.duplicate();
+        }
+    }
+
+    // Per-thread serializer, reused so an append allocates little beyond what the model adapter does
+    private static class Encoder extends OutputStream {
+        private byte[] bytes = new byte[1024];
+        private int count;
+        private final JsonWriter json;
+        private final CRC32 crc = new CRC32();
+
+        private Encoder() throws IOException {
+            // Lenient, like PlayFabJson.toJson, which also lets one writer produce a value per record
+            json = PlayFabJson.getGson().newJsonWriter(new PlayFabUtf8Writer(this));
+            json.setLenient(true);
+        }
+
+        private void encode(EventContents event) throws IOException {
+            count = 0;
+            PlayFabJson.getAdapter(EventContents.class).write(json, event);
+            json.flush();
+            crc.reset();
+            crc.update(bytes, 0, count);
+        }
+
+        @Override
+        public void write(int b) {
+            ensure(1);
+            bytes[count++] = (byte) b;
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) {
+            ensure(len);
+            System.arraycopy(b, off, bytes, count, len);
+            count += len;
+        }
+
+        private void ensure(int extra) {
+            if (count + extra > bytes.length)
+                bytes = Arrays.copyOf(bytes, Math.max(bytes.length * 2, count + extra));
+        }
+    }
+
+    private static final ThreadLocal<Encoder> encoders = new ThreadLocal<Encoder>();
+
+    // A batch read by the sender, and the cursor position just past it
+    private static class Batch {
+        private final ArrayList<EventContents> events = new ArrayList<EventContents>();
+        private int undecodable;
+        private long startSequence; // Where the cursor was when the batch started
+        private int startOffset;
+        private long endSequence;
+        private int endOffset;
+    }
+
+    private final File directory;
+    private final int segmentBytes;
+    private final long maxSpoolBytes;
+    private final long syncIntervalNanos;
+    private final boolean telemetry;
+    private final Map<String, String> customTags;
+    private final int maxBatchSize;
+    private final long maxBatchDelayNanos;
+    private final long minRetryMilliseconds;
+    private final long maxRetryMilliseconds;
+
+    // Guarded by this
+    private final ArrayDeque<Segment> segments = new ArrayDeque<Segment>();
+    private final Set<Segment> unsynced = new LinkedHashSet<Segment>();
+    private Segment head; // Receives appends
+    private long cursorSequence; // First unacknowledged record
+    private int cursorOffset;
+    private long appendedBytes = 0;
+
+    private final Object syncLock = new Object();
+    private volatile long syncedBytes = 0;
+    private volatile boolean closed = false;
+    private volatile boolean senderWaiting = false;
+    private final Thread syncer;
+    private final Thread sender;
+
+    private final AtomicLong appended = new AtomicLong();
+    private final AtomicLong sent = new AtomicLong();
+    private final AtomicLong rejected = new AtomicLong();
+    private final AtomicLong evicted = new AtomicLong();
+    private final AtomicLong oversized = new AtomicLong();
+    private final AtomicLong pending = new AtomicLong();
+    private final AtomicLong syncs = new AtomicLong();
+    private long replayed = 0;
+
+    /**
+     * Opens the spool in settings.Directory, replaying any events a previous spool left unsent
+     */
+    public PlayFabEventSpool(Settings settings) throws IOException {
+        if (settings.Directory == null)
+            throw new IllegalArgumentException("Settings.Directory is required");
+        directory = settings.Directory;
+        segmentBytes = Math.max(4096, settings.SegmentBytes);
+        maxSpoolBytes = Math.max(segmentBytes * 2L, settings.MaxSpoolBytes);
+        syncIntervalNanos = TimeUnit.MILLISECONDS.toNanos(Math.max(1, settings.SyncIntervalMilliseconds));
+        telemetry = settings.Telemetry;
+        customTags = settings.CustomTags;
+        maxBatchSize = Math.max(1, Math.min(PlayFabEventPipeline.MAX_EVENTS_PER_REQUEST, settings.MaxBatchSize));
+        maxBatchDelayNanos = TimeUnit.MILLISECONDS.toNanos(Math.max(0, settings.MaxBatchDelayMilliseconds));
+        minRetryMilliseconds = Math.max(1, settings.MinRetryMilliseconds);
+        maxRetryMilliseconds = Math.max(minRetryMilliseconds, settings.MaxRetryMilliseconds);
+
+        if (!directory.isDirectory() && !directory.mkdirs())
+            throw new IOException("Unable to create the spool directory " + directory);
+        replay();
+        head = openSegment(segments.isEmpty() ? cursorSequence : segments.peekLast().sequence + 1, true);
+        segments.add(head);
+
+        syncer = PlayFabExecutors.newDaemonThreadFactory("PlayFab-spool-sync-").newThread(new Runnable() {
+            public void run() {
+                runSyncer();
+            }
+        });
+        syncer.start();
+        if (settings.Send) {
+            sender = PlayFabExecutors.newDaemonThreadFactory("PlayFab-spool-send-").newThread(new Runnable() {
+                public void run() {
+                    runSender();
+                }
+            });
+            sender.start();
+        } else {
+            sender = null;
+        }
+    }
+
+    /**
+     * Appends an event to the spool. The event is safe from a crash of the process when this returns, and from a crash
+     * of the machine after the next sync
+     * @return false if the spool is closed, or the event is too large for a segment
+     */
+    public boolean append(EventContents event) {
+        if (event == null)
+            throw new NullPointerException("event");
+        if (closed)
+            return false;
+
+        Encoder encoder = encoders.get();
+        try {
+            if (encoder == null) {
+                encoder = new Encoder();
+                encoders.set(encoder);
+            }
+            encoder.encode(event);
+        } catch (IOException e) {
+            encoders.remove(); // The writer is mid-value and can't be reused
+            throw new IllegalStateException("Unable to serialize an event", e);
+        } catch (RuntimeException e) {
+            encoders.remove();
+            throw e;
+        }
+        int length = encoder.count;
+        if (RECORD_HEADER + length > segmentBytes) {
+            oversized.incrementAndGet();
+            return false;
+        }
+
+        try {
+            synchronized (this) {
+                if (closed)
+                    return false;
+                Segment segment = head;
+                int offset = segment.limit;
+                if (offset + RECORD_HEADER + length > segmentBytes) {
+                    segment = roll();
+                    offset = 0;
+                }
+                // The length goes in last, so a reader never sees a record whose payload is still being copied
+                segment.appender.position(offset + RECORD_HEADER);
+                segment.appender.put(encoder.bytes, 0, length);
+                segment.buffer.putInt(offset + 4, (int) encoder.crc.getValue());
+                segment.buffer.putInt(offset, length);
+                segment.limit = offset + RECORD_HEADER + length;
+                unsynced.add(segment);
+                appendedBytes += RECORD_HEADER + length;
+            }
+        } catch (IOException e) {
+            throw new IllegalStateException("Unable to add a spool segment", e);
+        }
+        appended.incrementAndGet();
+        pending.incrementAndGet();
+        if (senderWaiting) {
+            senderWaiting = false;
+            LockSupport.unpark(sender);
+        }
+        return true;
+    }
+
+    /**
+     * Forces every event appended so far to disk. Callers that overlap share one force
+     */
+    public void sync() throws IOException {
+        long target;
+        synchronized (this) {
+            target = appendedBytes;
+        }
+        if (syncedBytes >= target)
+            return;
+        synchronized (syncLock) {
+            if (syncedBytes >= target)
+                return; // Forced while this caller waited for the lock
+            long covered;
+            List<Segment> dirty;
+            synchronized (this) {
+                covered = appendedBytes;
+                dirty = new ArrayList<Segment>(unsynced);
+                unsynced.clear();
+            }
+            for (Segment segment : dirty)
+                segment.buffer.force();
+            syncs.incrementAndGet();
+            syncedBytes = covered;
+        }
+    }
+
+    /**
+     * Stops the sender and the sync thread and forces everything appended to disk. Unsent events stay in the directory for
+     * the next spool to send
+     */
+    public void close() throws IOException {
+        if (closed)
+            return;
+        closed = true;
+        if (sender != null)
+            LockSupport.unpark(sender);
+        LockSupport.unpark(syncer);
+        try {
+            syncer.join();
+            if (sender != null)
+                sender.join(5000); // An in-flight request may outlive this. Its batch is then sent again next time
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        sync();
+    }
+
+    public Stats getStats() {
+        Stats stats = new Stats();
+        stats.appended = appended.get();
+        stats.sent = sent.get();
+        stats.rejected = rejected.get();
+        stats.evicted = evicted.get();
+        stats.oversized = oversized.get();
+        stats.pending = pending.get();
+        stats.syncs = syncs.get();
+        synchronized (this) {
+            stats.replayed = replayed;
+            stats.segments = segments.size();
+        }
+        return stats;
+    }
+
+    // Segments
+
+    private static String segmentName(long sequence) {
+        return String.format("%020d%s", sequence, SEGMENT_SUFFIX);
+    }
+
+    private Segment openSegment(long sequence, boolean create) throws IOException {
+        File file = new File(directory, segmentName(sequence));
+        RandomAccessFile raf = new RandomAccessFile(file, "rw");
+        try {
+            if (create)
+                raf.setLength(segmentBytes);
+            FileChannel channel = raf.getChannel();
+            return new Segment(sequence, file, channel.map(FileChannel.MapMode.READ_WRITE, 0, channel.size()));
+        } finally {
+            raf.close(); // The mapping stays valid after the channel closes
+        }
+    }
+
+    // Starts a new head segment, evicting the oldest while the spool is over its size limit. Caller holds the lock
+    private Segment roll() throws IOException {
+        head = openSegment(head.sequence + 1, true);
+        segments.add(head);
+        while ((long) segments.size() * segmentBytes > maxSpoolBytes && segments.size() > 1) {
+            Segment oldest = segments.poll();
+            unsynced.remove(oldest);
+            if (oldest.sequence >= cursorSequence) {
+                int lost = countRecords(oldest, oldest.sequence == cursorSequence ? cursorOffset : 0, oldest.limit);
+                evicted.addAndGet(lost);
+                pending.addAndGet(-lost);
+                cursorSequence = segments.peek().sequence;
+                cursorOffset = 0;
+            }
+            oldest.file.delete();
+        }
+        return head;
+    }
+
+    // Counts the complete records from an offset up to a limit, at most the segment's
+    private static int countRecords(Segment segment, int offset, int limit) {
+        int count = 0;
+        while (offset + RECORD_HEADER <= limit) {
+            offset += RECORD_HEADER + segment.buffer.getInt(offset);
+            count++;
+        }
+        return count;
+    }
+
+    // Finds the records a previous spool left behind. Each segment ends at its first incomplete or corrupt record
+    private void replay() throws IOException {
+        readCursor();
+        File[] files = directory.listFiles();
+        List<Long> sequences = new ArrayList<Long>();
+        for (File file : files == null ? new File[0] : files) {
+            String name = file.getName();
+            if (!name.endsWith(SEGMENT_SUFFIX))
+                continue;
+            try {
+                sequences.add(Long.parseLong(name.substring(0, name.length() - SEGMENT_SUFFIX.length())));
+            } catch (NumberFormatException e) {
+                // Not one of ours
+            }
+        }
+        Collections.sort(sequences);
+
+        CRC32 crc = new CRC32();
+        byte[] payload = new byte[1024];
+        for (long sequence : sequences) {
+            if (sequence < cursorSequence) {
+                new File(directory, segmentName(sequence)).delete(); // Sent before the previous spool could delete it
+                continue;
+            }
+            Segment segment = openSegment(sequence, false);
+            ByteBuffer reader = segment.buffer.duplicate();
+            int offset = 0;
+            int capacity = segment.buffer.capacity();
+            while (offset + RECORD_HEADER <= capacity) {
+                int length = segment.buffer.getInt(offset);
+                if (length <= 0 || offset + RECORD_HEADER + length > capacity)
+                    break;
+                if (payload.length < length)
+                    payload = new byte[length];
+                reader.position(offset + RECORD_HEADER);
+                reader.get(payload, 0, length);
+                crc.reset();
+                crc.update(payload, 0, length);
+                if ((int) crc.getValue() != segment.buffer.getInt(offset + 4))
+                    break;
+                offset += RECORD_HEADER + length;
+            }
+            segment.limit = offset;
+            segments.add(segment);
+        }
+
+        if (!segments.isEmpty() && segments.peek().sequence > cursorSequence) {
+            cursorSequence = segments.peek().sequence;
+            cursorOffset = 0;
+        }
+        for (Segment segment : segments)
+            replayed += countRecords(segment, segment.sequence == cursorSequence ? Math.min(cursorOffset, segment.limit) : 0, segment.limit);
+        pending.set(replayed);
+    }
+
+    private void readCursor() throws IOException {
+        File file = new File(directory, CURSOR_FILE);
+        if (!file.exists())
+            return;
+        DataInputStream in = new DataInputStream(new FileInputStream(file));
+        try {
+            cursorSequence = in.readLong();
+            cursorOffset = in.readInt();
+        } catch (EOFException e) {
+            cursorSequence = 0; // Torn by a crash before the rename that replaces it, so never a complete cursor
+            cursorOffset = 0;
+        } finally {
+            in.close();
+        }
+    }
+
+    // Written beside the cursor and renamed over it, so a crash leaves either the old cursor or the new one
+    private void writeCursor(long sequence, int offset) throws IOException {
+        File temp = new File(directory, CURSOR_FILE + ".tmp");
+        FileOutputStream file = new FileOutputStream(temp);
+        try {
+            DataOutputStream out = new DataOutputStream(file);
+            out.writeLong(sequence);
+            out.writeInt(offset);
+            out.flush();
+            file.getFD().sync();
+        } finally {
+            file.close();
+        }
+        Files.move(temp.toPath(), new File(directory, CURSOR_FILE).toPath(), StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    // Sender
+
+    // Starts a batch at the cursor
+    private synchronized Batch newBatch() {
+        Batch batch = new Batch();
+        batch.startSequence = batch.endSequence = cursorSequence;
+        batch.startOffset = batch.endOffset = cursorOffset;
+        return batch;
+    }
+
+    // Decodes records onto the end of a batch until it holds max. Records are decoded outside the lock: a segment never
+    // changes below its limit, and an evicted segment's mapping stays readable
+    private void readInto(Batch batch, int max) {
+        List<Segment> snapshot;
+        synchronized (this) {
+            snapshot = new ArrayList<Segment>(segments);
+        }
+
+        TypeAdapter<EventContents> adapter = PlayFabJson.getAdapter(EventContents.class);
+        for (int i = 0; i < snapshot.size() && batch.events.size() < max; i++) {
+            Segment segment = snapshot.get(i);
+            if (segment.sequence < batch.endSequence)
+                continue;
+            int offset = segment.sequence == batch.endSequence ? batch.endOffset : 0;
+            int limit = segment.limit;
+            ByteBuffer reader = segment.buffer.duplicate();
+            while (offset + RECORD_HEADER <= limit && batch.events.size() < max) {
+                int length = reader.getInt(offset);
+                byte[] payload = new byte[length];
+                reader.position(offset + RECORD_HEADER);
+                reader.get(payload);
+                try {
+                    batch.events.add(adapter.read(PlayFabJson.getGson().newJsonReader(
+                        new PlayFabUtf8Reader(new ByteArrayInputStream(payload)))));
+                } catch (Exception e) {
+                    batch.undecodable++; // Written by an incompatible version. Dropped with the batch rather than retried forever
+                }
+                offset += RECORD_HEADER + length;
+            }
+            batch.endSequence = segment.sequence;
+            batch.endOffset = offset;
+            // Move on only from a finished segment: appends to the head may still land past this offset
+            if (offset < limit || i == snapshot.size() - 1)
+                break;
+        }
+    }
+
+    // Moves the cursor past a batch and deletes the segments before it
+    // @return the batch's records still past the cursor: those evicted while it was in flight were counted then
+    private int acknowledge(Batch batch) {
+        List<Segment> finished = new ArrayList<Segment>();
+        int acknowledged;
+        synchronized (this) {
+            if (batch.endSequence < cursorSequence || (batch.endSequence == cursorSequence && batch.endOffset <= cursorOffset))
+                return 0; // Evicted while the batch was in flight
+            if (cursorSequence == batch.startSequence && cursorOffset == batch.startOffset) {
+                acknowledged = batch.events.size() + batch.undecodable;
+            } else {
+                acknowledged = 0;
+                for (Segment segment : segments)
+                    if (segment.sequence >= cursorSequence && segment.sequence <= batch.endSequence)
+                        acknowledged += countRecords(segment, segment.sequence == cursorSequence ? cursorOffset : 0,
+                            segment.sequence == batch.endSequence ? batch.endOffset : segment.limit);
+            }
+            cursorSequence = batch.endSequence;
+            cursorOffset = batch.endOffset;
+            while (segments.size() > 1 && segments.peek().sequence < cursorSequence) {
+                Segment segment = segments.poll();
+                unsynced.remove(segment);
+                finished.add(segment);
+            }
+        }
+        try {
+            writeCursor(batch.endSequence, batch.endOffset);
+        } catch (IOException e) {
+            // The cursor stays put on disk, so these events are sent again after a restart
+        }
+        for (Segment segment : finished)
+            segment.file.delete();
+        return acknowledged;
+    }
+
+    private void runSender() {
+        long retryMilliseconds = minRetryMilliseconds;
+        long partialSince = 0;
+        Batch batch = null; // Kept until acknowledged, so a failed batch is sent again without decoding it again
+        while (!closed) {
+            if (batch == null)
+                batch = newBatch();
+            if (batch.events.size() < maxBatchSize)
+                readInto(batch, maxBatchSize);
+
+            long now = System.nanoTime();
+            if (batch.events.isEmpty() && batch.undecodable == 0) {
+                // Wait for an append
+                partialSince = 0;
+                senderWaiting = true;
+                LockSupport.parkNanos(this, maxBatchDelayNanos > 0 ? maxBatchDelayNanos : syncIntervalNanos);
+                senderWaiting = false;
+                continue;
+            }
+            if (batch.events.size() < maxBatchSize && maxBatchDelayNanos > 0) {
+                // Give a partial batch until its deadline to fill
+                if (partialSince == 0)
+                    partialSince = now;
+                if (now - partialSince < maxBatchDelayNanos) {
+                    LockSupport.parkNanos(this, partialSince + maxBatchDelayNanos - now);
+                    continue;
+                }
+            }
+            partialSince = 0;
+
+            PlayFabError error = null;
+            if (!batch.events.isEmpty()) {
+                WriteEventsRequest request = new WriteEventsRequest();
+                request.CustomTags = customTags;
+                request.Events = batch.events;
+                PlayFabResult<WriteEventsResponse> result = telemetry
+                    ? PlayFabEventsAPI.WriteTelemetryEvents(request)
+                    : PlayFabEventsAPI.WriteEvents(request);
+                error = result.Error;
+            }
+            if (error == null || (error.httpCode == 400 && EVENT_REJECTIONS.contains(error.pfErrorCode))) {
+                // Only the records not evicted meanwhile are counted. The batch does not keep where its undecodable
+                // records were, so those left are taken to be events first
+                int acknowledged = acknowledge(batch);
+                int events = Math.min(batch.events.size(), acknowledged);
+                (error == null ? sent : rejected).addAndGet(events);
+                rejected.addAndGet(acknowledged - events);
+                pending.addAndGet(-acknowledged);
+                batch = null;
+                retryMilliseconds = minRetryMilliseconds;
+                continue;
+            }
+
+            if (!closed)
+                LockSupport.parkNanos(this, TimeUnit.MILLISECONDS.toNanos(retryMilliseconds));
+            retryMilliseconds = Math.min(maxRetryMilliseconds, retryMilliseconds * 2);
+        }
+    }
+
+    private void runSyncer() {
+        while (!closed) {
+            LockSupport.parkNanos(this, syncIntervalNanos);
+            try {
+                sync();
+            } catch (IOException e) {
+                // Retried on the next interval
+            }
+        }
+    }
+}
@@ -6,15 +6,13 @@ import com.playfab.PlayFabErrors.*;
 import com.playfab.PlayFabSettings;
 import java.util.concurrent.*;
 import java.util.*;
-import com.google.gson.*;
-import com.google.gson.reflect.*;
 
     /**
      * Write custom PlayStream and Telemetry events for any PlayFab entity. Telemetry events can be used for analytic,
      * reporting, or debugging. PlayStream events can do all of that and also trigger custom actions in near real-time.
      */
 public class PlayFabEventsAPI {
-    private static Gson gson = new GsonBuilder().setDateFormat("yyyy-MM-dd'T'HH:mm:ss.SSS'Z'").create();
+    private static final Async async = new Async();
 
     /**
      * Write batches of entity based events to PlayStream. The namespace of the Event must be 'custom' or start with 'custom.'.
@@ -25,7 +23,7 @@ public class PlayFabEventsAPI {
     public static FutureTask<PlayFabResult<WriteEventsResponse>> WriteEventsAsync(final WriteEventsRequest request) {
         return new FutureTask(new Callable<PlayFabResult<WriteEventsResponse>>() {
             public PlayFabResult<WriteEventsResponse> call() throws Exception {
-                return privateWriteEventsAsync(request);
+                return privateWriteEventsAsync(null, request);
             }
         });
     }
@@ -39,7 +37,7 @@ public class PlayFabEventsAPI {
     public static PlayFabResult<WriteEventsResponse> WriteEvents(final WriteEventsRequest request) {
         FutureTask<PlayFabResult<WriteEventsResponse>> task = new FutureTask(new Callable<PlayFabResult<WriteEventsResponse>>() {
             public PlayFabResult<WriteEventsResponse> call() throws Exception {
-                return privateWriteEventsAsync(request);
+                return privateWriteEventsAsync(null, request);
             }
         });
         try {
@@ -54,10 +52,12 @@ public class PlayFabEventsAPI {
 
     /** Write batches of entity based events to PlayStream. The namespace of the Event must be 'custom' or start with 'custom.'. */
     @SuppressWarnings("unchecked")
-    private static PlayFabResult<WriteEventsResponse> privateWriteEventsAsync(final WriteEventsRequest request) throws Exception {
-        if (PlayFabSettings.EntityToken == null) throw new Exception ("Must call GetEntityToken before you can use the Entity API");
+    static PlayFabResult<WriteEventsResponse> privateWriteEventsAsync(final PlayFabInstanceAPI instance, final WriteEventsRequest request) throws Exception {
+        final PlayFabApiContext context = PlayFabInstanceAPI.contextOf(instance);
+        final String entityToken = context.getEntityToken();
+        if (entityToken == null) throw new Exception ("Must call GetEntityToken before you can use the Entity API");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Event/WriteEvents"), request, "X-EntityToken", PlayFabSettings.EntityToken);
+        FutureTask<Object> task = PlayFabHTTP.doPost(context.getURL("/Event/WriteEvents"), request, "X-EntityToken", entityToken, WriteEventsResponse.class);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -68,9 +68,7 @@ public class PlayFabEventsAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
-
-        PlayFabJsonSuccess<WriteEventsResponse> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<WriteEventsResponse>>(){}.getType());
+        PlayFabJsonSuccess<WriteEventsResponse> resultData = (PlayFabJsonSuccess<WriteEventsResponse>) httpResult;
         WriteEventsResponse result = resultData.data;
 
         PlayFabResult<WriteEventsResponse> pfResult = new PlayFabResult<WriteEventsResponse>();
@@ -88,7 +86,7 @@ public class PlayFabEventsAPI {
     public static FutureTask<PlayFabResult<WriteEventsResponse>> WriteTelemetryEventsAsync(final WriteEventsRequest request) {
         return new FutureTask(new Callable<PlayFabResult<WriteEventsResponse>>() {
             public PlayFabResult<WriteEventsResponse> call() throws Exception {
-                return privateWriteTelemetryEventsAsync(request);
+                return privateWriteTelemetryEventsAsync(null, request);
             }
         });
     }
@@ -103,7 +101,7 @@ public class PlayFabEventsAPI {
     public static PlayFabResult<WriteEventsResponse> WriteTelemetryEvents(final WriteEventsRequest request) {
         FutureTask<PlayFabResult<WriteEventsResponse>> task = new FutureTask(new Callable<PlayFabResult<WriteEventsResponse>>() {
             public PlayFabResult<WriteEventsResponse> call() throws Exception {
-                return privateWriteTelemetryEventsAsync(request);
+                return privateWriteTelemetryEventsAsync(null, request);
             }
         });
         try {
@@ -121,10 +119,12 @@ public class PlayFabEventsAPI {
      * with 'custom.'
      */
     @SuppressWarnings("unchecked")
-    private static PlayFabResult<WriteEventsResponse> privateWriteTelemetryEventsAsync(final WriteEventsRequest request) throws Exception {
-        if (PlayFabSettings.EntityToken == null) throw new Exception ("Must call GetEntityToken before you can use the Entity API");
+    static PlayFabResult<WriteEventsResponse> privateWriteTelemetryEventsAsync(final PlayFabInstanceAPI instance, final WriteEventsRequest request) throws Exception {
+        final PlayFabApiContext context = PlayFabInstanceAPI.contextOf(instance);
+        final String entityToken = context.getEntityToken();
+        if (entityToken == null) throw new Exception ("Must call GetEntityToken before you can use the Entity API");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Event/WriteTelemetryEvents"), request, "X-EntityToken", PlayFabSettings.EntityToken);
+        FutureTask<Object> task = PlayFabHTTP.doPost(context.getURL("/Event/WriteTelemetryEvents"), request, "X-EntityToken", entityToken, WriteEventsResponse.class);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -135,9 +135,7 @@ public class PlayFabEventsAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
-
-        PlayFabJsonSuccess<WriteEventsResponse> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<WriteEventsResponse>>(){}.getType());
+        PlayFabJsonSuccess<WriteEventsResponse> resultData = (PlayFabJsonSuccess<WriteEventsResponse>) httpResult;
         WriteEventsResponse result = resultData.data;
 
         PlayFabResult<WriteEventsResponse> pfResult = new PlayFabResult<WriteEventsResponse>();
@@ -145,4 +143,45 @@ public class PlayFabEventsAPI {
         return pfResult;
     }
 
+    /**
+     * @return Non-blocking versions of every PlayFabEventsAPI call, started on PlayFabSettings.AsyncExecutor
+     */
+    public static Async async() {
+        return async;
+    }
+
+    /**
+     * Non-blocking versions of the PlayFabEventsAPI calls. Each call is already running when its PlayFabFuture is returned.
+     */
+    public static class Async {
+        private Async() {
+        }
+
+        /**
+         * Write batches of entity based events to PlayStream. The namespace of the Event must be 'custom' or start with 'custom.'.
+         * @param request WriteEventsRequest
+         * @return Running future that will complete with WriteEventsResponse
+         */
+        public PlayFabFuture<PlayFabResult<WriteEventsResponse>> WriteEvents(final WriteEventsRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<WriteEventsResponse>>() {
+                public PlayFabResult<WriteEventsResponse> call() throws Exception {
+                    return privateWriteEventsAsync(null, request);
+                }
+            });
+        }
+
+        /**
+         * Write batches of entity based events to as Telemetry events (bypass PlayStream). The namespace must be 'custom' or start
+         * with 'custom.'
+         * @param request WriteEventsRequest
+         * @return Running future that will complete with WriteEventsResponse
+         */
+        public PlayFabFuture<PlayFabResult<WriteEventsResponse>> WriteTelemetryEvents(final WriteEventsRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<WriteEventsResponse>>() {
+                public PlayFabResult<WriteEventsResponse> call() throws Exception {
+                    return privateWriteTelemetryEventsAsync(null, request);
+                }
+            });
+        }
+    }
 }
@@ -0,0 +1,93 @@
+package com.playfab;
+
+import com.playfab.internal.*;
+import com.playfab.PlayFabEventsModels.*;
+import com.playfab.PlayFabErrors.*;
+import com.playfab.PlayFabSettings;
+import java.util.concurrent.*;
+import java.util.*;
+
+    /**
+     * The calls of PlayFabEventsAPI, made with a PlayFabApiContext of this object's own instead of PlayFabSettings. Login
+     * and GetEntityToken calls keep the credentials they return in that context
+     */
+public class PlayFabEventsInstanceAPI extends PlayFabInstanceAPI {
+    private final Async async = new Async();
+
+    public PlayFabEventsInstanceAPI(PlayFabApiContext context) {
+        super(context);
+    }
+
+    /**
+     * Write batches of entity based events to PlayStream. The namespace of the Event must be 'custom' or start with 'custom.'.
+     * @param request WriteEventsRequest
+     * @return WriteEventsResponse
+     */
+    public PlayFabResult<WriteEventsResponse> WriteEvents(final WriteEventsRequest request) {
+        try {
+            return PlayFabEventsAPI.privateWriteEventsAsync(this, request);
+        } catch(Exception e) {
+            PlayFabResult<WriteEventsResponse> exceptionResult = new PlayFabResult<WriteEventsResponse>();
+            exceptionResult.Error = PlayFabHTTP.GeneratePfError(-1, PlayFabErrorCode.Unknown, e.getMessage(), null, null);
+            return exceptionResult;
+        }
+    }
+
+    /**
+     * Write batches of entity based events to as Telemetry events (bypass PlayStream). The namespace must be 'custom' or start
+     * with 'custom.'
+     * @param request WriteEventsRequest
+     * @return WriteEventsResponse
+     */
+    public PlayFabResult<WriteEventsResponse> WriteTelemetryEvents(final WriteEventsRequest request) {
+        try {
+            return PlayFabEventsAPI.privateWriteTelemetryEventsAsync(this, request);
+        } catch(Exception e) {
+            PlayFabResult<WriteEventsResponse> exceptionResult = new PlayFabResult<WriteEventsResponse>();
+            exceptionResult.Error = PlayFabHTTP.GeneratePfError(-1, PlayFabErrorCode.Unknown, e.getMessage(), null, null);
+            return exceptionResult;
+        }
+    }
+
+    /**
+     * @return Non-blocking versions of every call, made with this object's context and started on PlayFabSettings.AsyncExecutor
+     */
+    public Async async() {
+        return async;
+    }
+
+    /**
+     * Non-blocking versions of the PlayFabEventsInstanceAPI calls. Each call is already running when its PlayFabFuture is returned.
+     */
+    public class Async {
+        private Async() {
+        }
+
+        /**
+         * Write batches of entity based events to PlayStream. The namespace of the Event must be 'custom' or start with 'custom.'.
+         * @param request WriteEventsRequest
+         * @return Running future that will complete with WriteEventsResponse
+         */
+        public PlayFabFuture<PlayFabResult<WriteEventsResponse>> WriteEvents(final WriteEventsRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<WriteEventsResponse>>() {
+                public PlayFabResult<WriteEventsResponse> call() throws Exception {
+                    return PlayFabEventsAPI.privateWriteEventsAsync(PlayFabEventsInstanceAPI.this, request);
+                }
+            });
+        }
+
+        /**
+         * Write batches of entity based events to as Telemetry events (bypass PlayStream). The namespace must be 'custom' or start
+         * with 'custom.'
+         * @param request WriteEventsRequest
+         * @return Running future that will complete with WriteEventsResponse
+         */
+        public PlayFabFuture<PlayFabResult<WriteEventsResponse>> WriteTelemetryEvents(final WriteEventsRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<WriteEventsResponse>>() {
+                public PlayFabResult<WriteEventsResponse> call() throws Exception {
+                    return PlayFabEventsAPI.privateWriteTelemetryEventsAsync(PlayFabEventsInstanceAPI.this, request);
+                }
+            });
+        }
+    }
+}
@@ -0,0 +1,221 @@
+package com.playfab;
+
+import java.io.IOException;
+import java.util.Date;
+import com.google.gson.*;
+import com.google.gson.reflect.TypeToken;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
+import com.playfab.PlayFabEventsModels.*;
+import com.playfab.internal.PlayFabJson;
+
+/**
+ * Streaming TypeAdapters for every class in PlayFabEventsModels, so models are read and written without field reflection.
+ * PlayFabJson finds FACTORY through this class name. Enums keep Gson's own adapters, which do no per-call reflection.
+ * Generated from PlayFabEventsModels by PlayFabModelAdaptersGenerator, in the PlayFabSDK tests: regenerate rather than edit.
+ */
+public class PlayFabEventsModelsAdapters {
+    public static final TypeAdapterFactory FACTORY = new TypeAdapterFactory() {
+        @SuppressWarnings("unchecked")
+        public <T> TypeAdapter<T> create(Gson gson, TypeToken<T> type) {
+            Class<?> raw = type.getRawType();
+            if (raw.getDeclaringClass() != PlayFabEventsModels.class)
+                return null;
+            switch (raw.getSimpleName()) {
+                case "EntityKey": return (TypeAdapter<T>) new EntityKeyAdapter(gson);
+                case "EventContents": return (TypeAdapter<T>) new EventContentsAdapter(gson);
+                case "WriteEventsRequest": return (TypeAdapter<T>) new WriteEventsRequestAdapter(gson);
+                case "WriteEventsResponse": return (TypeAdapter<T>) new WriteEventsResponseAdapter(gson);
+                default: return null;
+            }
+        }
+    };
+
+    private static class EntityKeyAdapter extends TypeAdapter<EntityKey> {
+        private EntityKeyAdapter(Gson gson) {
+        }
+
+        @Override
+        public void write(JsonWriter out, EntityKey value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.name("Id").value(value.Id);
+            out.name("Type").value(value.Type);
+            out.endObject();
+        }
+
+        @Override
+        public EntityKey read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            EntityKey value = new EntityKey();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "Id": value.Id = PlayFabJson.readString(in); break;
+                        case "Type": value.Type = PlayFabJson.readString(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class EventContentsAdapter extends TypeAdapter<EventContents> {
+        private final TypeAdapter<String> stringAdapter;
+        private final TypeAdapter<EntityKey> entityKeyAdapter;
+        private final TypeAdapter<Date> dateAdapter;
+        private final TypeAdapter<Object> objectAdapter;
+
+        private EventContentsAdapter(Gson gson) {
+            stringAdapter = gson.getAdapter(String.class);
+            entityKeyAdapter = gson.getAdapter(EntityKey.class);
+            dateAdapter = gson.getAdapter(Date.class);
+            objectAdapter = gson.getAdapter(Object.class);
+        }
+
+        @Override
+        public void write(JsonWriter out, EventContents value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            PlayFabJson.writeMap(out.name("CustomTags"), value.CustomTags, stringAdapter);
+            entityKeyAdapter.write(out.name("Entity"), value.Entity);
+            out.name("EventNamespace").value(value.EventNamespace);
+            out.name("Name").value(value.Name);
+            out.name("OriginalId").value(value.OriginalId);
+            dateAdapter.write(out.name("OriginalTimestamp"), value.OriginalTimestamp);
+            objectAdapter.write(out.name("Payload"), value.Payload);
+            out.name("PayloadJSON").value(value.PayloadJSON);
+            out.endObject();
+        }
+
+        @Override
+        public EventContents read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            EventContents value = new EventContents();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "CustomTags": value.CustomTags = PlayFabJson.readMap(in, stringAdapter); break;
+                        case "Entity": value.Entity = entityKeyAdapter.read(in); break;
+                        case "EventNamespace": value.EventNamespace = PlayFabJson.readString(in); break;
+                        case "Name": value.Name = PlayFabJson.readString(in); break;
+                        case "OriginalId": value.OriginalId = PlayFabJson.readString(in); break;
+                        case "OriginalTimestamp": value.OriginalTimestamp = dateAdapter.read(in); break;
+                        case "Payload": value.Payload = objectAdapter.read(in); break;
+                        case "PayloadJSON": value.PayloadJSON = PlayFabJson.readString(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class WriteEventsRequestAdapter extends TypeAdapter<WriteEventsRequest> {
+        private final TypeAdapter<String> stringAdapter;
+        private final TypeAdapter<EventContents> eventContentsAdapter;
+
+        private WriteEventsRequestAdapter(Gson gson) {
+            stringAdapter = gson.getAdapter(String.class);
+            eventContentsAdapter = gson.getAdapter(EventContents.class);
+        }
+
+        @Override
+        public void write(JsonWriter out, WriteEventsRequest value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            PlayFabJson.writeMap(out.name("CustomTags"), value.CustomTags, stringAdapter);
+            PlayFabJson.writeList(out.name("Events"), value.Events, eventContentsAdapter);
+            out.endObject();
+        }
+
+        @Override
+        public WriteEventsRequest read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            WriteEventsRequest value = new WriteEventsRequest();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "CustomTags": value.CustomTags = PlayFabJson.readMap(in, stringAdapter); break;
+                        case "Events": value.Events = PlayFabJson.readList(in, eventContentsAdapter); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class WriteEventsResponseAdapter extends TypeAdapter<WriteEventsResponse> {
+        private final TypeAdapter<String> stringAdapter;
+
+        private WriteEventsResponseAdapter(Gson gson) {
+            stringAdapter = gson.getAdapter(String.class);
+        }
+
+        @Override
+        public void write(JsonWriter out, WriteEventsResponse value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            PlayFabJson.writeList(out.name("AssignedEventIds"), value.AssignedEventIds, stringAdapter);
+            out.endObject();
+        }
+
+        @Override
+        public WriteEventsResponse read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            WriteEventsResponse value = new WriteEventsResponse();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "AssignedEventIds": value.AssignedEventIds = PlayFabJson.readList(in, stringAdapter); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+}
@@ -0,0 +1,2303 @@
+package com.playfab;
+
+import java.io.IOException;
+import java.util.Date;
+import com.google.gson.*;
+import com.google.gson.reflect.TypeToken;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
+import com.playfab.PlayFabGroupsModels.*;
+import com.playfab.internal.PlayFabJson;
+
+/**
+ * Streaming TypeAdapters for every class in PlayFabGroupsModels, so models are read and written without field reflection.
+ * PlayFabJson finds FACTORY through this class name. Enums keep Gson's own adapters, which do no per-call reflection.
+ * Generated from PlayFabGroupsModels by PlayFabModelAdaptersGenerator, in the PlayFabSDK tests: regenerate rather than edit.
+ */
+public class PlayFabGroupsModelsAdapters {
+    public static final TypeAdapterFactory FACTORY = new TypeAdapterFactory() {
+        @SuppressWarnings("unchecked")
+        public <T> TypeAdapter<T> create(Gson gson, TypeToken<T> type) {
+            Class<?> raw = type.getRawType();
+            if (raw.getDeclaringClass() != PlayFabGroupsModels.class)
+                return null;
+            switch (raw.getSimpleName()) {
+                case "AcceptGroupApplicationRequest": return (TypeAdapter<T>) new AcceptGroupApplicationRequestAdapter(gson);
+                case "AcceptGroupInvitationRequest": return (TypeAdapter<T>) new AcceptGroupInvitationRequestAdapter(gson);
+                case "AddMembersRequest": return (TypeAdapter<T>) new AddMembersRequestAdapter(gson);
+                case "ApplyToGroupRequest": return (TypeAdapter<T>) new ApplyToGroupRequestAdapter(gson);
+                case "ApplyToGroupResponse": return (TypeAdapter<T>) new ApplyToGroupResponseAdapter(gson);
+                case "BlockEntityRequest": return (TypeAdapter<T>) new BlockEntityRequestAdapter(gson);
+                case "ChangeMemberRoleRequest": return (TypeAdapter<T>) new ChangeMemberRoleRequestAdapter(gson);
+                case "CreateGroupRequest": return (TypeAdapter<T>) new CreateGroupRequestAdapter(gson);
+                case "CreateGroupResponse": return (TypeAdapter<T>) new CreateGroupResponseAdapter(gson);
+                case "CreateGroupRoleRequest": return (TypeAdapter<T>) new CreateGroupRoleRequestAdapter(gson);
+                case "CreateGroupRoleResponse": return (TypeAdapter<T>) new CreateGroupRoleResponseAdapter(gson);
+                case "DeleteGroupRequest": return (TypeAdapter<T>) new DeleteGroupRequestAdapter(gson);
+                case "DeleteRoleRequest": return (TypeAdapter<T>) new DeleteRoleRequestAdapter(gson);
+                case "EmptyResponse": return (TypeAdapter<T>) new EmptyResponseAdapter(gson);
+                case "EntityKey": return (TypeAdapter<T>) new EntityKeyAdapter(gson);
+                case "EntityMemberRole": return (TypeAdapter<T>) new EntityMemberRoleAdapter(gson);
+                case "EntityWithLineage": return (TypeAdapter<T>) new EntityWithLineageAdapter(gson);
+                case "GetGroupRequest": return (TypeAdapter<T>) new GetGroupRequestAdapter(gson);
+                case "GetGroupResponse": return (TypeAdapter<T>) new GetGroupResponseAdapter(gson);
+                case "GroupApplication": return (TypeAdapter<T>) new GroupApplicationAdapter(gson);
+                case "GroupBlock": return (TypeAdapter<T>) new GroupBlockAdapter(gson);
+                case "GroupInvitation": return (TypeAdapter<T>) new GroupInvitationAdapter(gson);
+                case "GroupRole": return (TypeAdapter<T>) new GroupRoleAdapter(gson);
+                case "GroupWithRoles": return (TypeAdapter<T>) new GroupWithRolesAdapter(gson);
+                case "InviteToGroupRequest": return (TypeAdapter<T>) new InviteToGroupRequestAdapter(gson);
+                case "InviteToGroupResponse": return (TypeAdapter<T>) new InviteToGroupResponseAdapter(gson);
+                case "IsMemberRequest": return (TypeAdapter<T>) new IsMemberRequestAdapter(gson);
+                case "IsMemberResponse": return (TypeAdapter<T>) new IsMemberResponseAdapter(gson);
+                case "ListGroupApplicationsRequest": return (TypeAdapter<T>) new ListGroupApplicationsRequestAdapter(gson);
+                case "ListGroupApplicationsResponse": return (TypeAdapter<T>) new ListGroupApplicationsResponseAdapter(gson);
+                case "ListGroupBlocksRequest": return (TypeAdapter<T>) new ListGroupBlocksRequestAdapter(gson);
+                case "ListGroupBlocksResponse": return (TypeAdapter<T>) new ListGroupBlocksResponseAdapter(gson);
+                case "ListGroupInvitationsRequest": return (TypeAdapter<T>) new ListGroupInvitationsRequestAdapter(gson);
+                case "ListGroupInvitationsResponse": return (TypeAdapter<T>) new ListGroupInvitationsResponseAdapter(gson);
+                case "ListGroupMembersRequest": return (TypeAdapter<T>) new ListGroupMembersRequestAdapter(gson);
+                case "ListGroupMembersResponse": return (TypeAdapter<T>) new ListGroupMembersResponseAdapter(gson);
+                case "ListMembershipOpportunitiesRequest": return (TypeAdapter<T>) new ListMembershipOpportunitiesRequestAdapter(gson);
+                case "ListMembershipOpportunitiesResponse": return (TypeAdapter<T>) new ListMembershipOpportunitiesResponseAdapter(gson);
+                case "ListMembershipRequest": return (TypeAdapter<T>) new ListMembershipRequestAdapter(gson);
+                case "ListMembershipResponse": return (TypeAdapter<T>) new ListMembershipResponseAdapter(gson);
+                case "RemoveGroupApplicationRequest": return (TypeAdapter<T>) new RemoveGroupApplicationRequestAdapter(gson);
+                case "RemoveGroupInvitationRequest": return (TypeAdapter<T>) new RemoveGroupInvitationRequestAdapter(gson);
+                case "RemoveMembersRequest": return (TypeAdapter<T>) new RemoveMembersRequestAdapter(gson);
+                case "UnblockEntityRequest": return (TypeAdapter<T>) new UnblockEntityRequestAdapter(gson);
+                case "UpdateGroupRequest": return (TypeAdapter<T>) new UpdateGroupRequestAdapter(gson);
+                case "UpdateGroupResponse": return (TypeAdapter<T>) new UpdateGroupResponseAdapter(gson);
+                case "UpdateGroupRoleRequest": return (TypeAdapter<T>) new UpdateGroupRoleRequestAdapter(gson);
+                case "UpdateGroupRoleResponse": return (TypeAdapter<T>) new UpdateGroupRoleResponseAdapter(gson);
+                default: return null;
+            }
+        }
+    };
+
+    private static class AcceptGroupApplicationRequestAdapter extends TypeAdapter<AcceptGroupApplicationRequest> {
+        private final TypeAdapter<String> stringAdapter;
+        private final TypeAdapter<EntityKey> entityKeyAdapter;
+
+        private AcceptGroupApplicationRequestAdapter(Gson gson) {
+            stringAdapter = gson.getAdapter(String.class);
+            entityKeyAdapter = gson.getAdapter(EntityKey.class);
+        }
+
+        @Override
+        public void write(JsonWriter out, AcceptGroupApplicationRequest value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            PlayFabJson.writeMap(out.name("CustomTags"), value.CustomTags, stringAdapter);
+            entityKeyAdapter.write(out.name("Entity"), value.Entity);
+            entityKeyAdapter.write(out.name("Group"), value.Group);
+            out.endObject();
+        }
+
+        @Override
+        public AcceptGroupApplicationRequest read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            AcceptGroupApplicationRequest value = new AcceptGroupApplicationRequest();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "CustomTags": value.CustomTags = PlayFabJson.readMap(in, stringAdapter); break;
+                        case "Entity": value.Entity = entityKeyAdapter.read(in); break;
+                        case "Group": value.Group = entityKeyAdapter.read(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class AcceptGroupInvitationRequestAdapter extends TypeAdapter<AcceptGroupInvitationRequest> {
+        private final TypeAdapter<String> stringAdapter;
+        private final TypeAdapter<EntityKey> entityKeyAdapter;
+
+        private AcceptGroupInvitationRequestAdapter(Gson gson) {
+            stringAdapter = gson.getAdapter(String.class);
+            entityKeyAdapter = gson.getAdapter(EntityKey.class);
+        }
+
+        @Override
+        public void write(JsonWriter out, AcceptGroupInvitationRequest value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            PlayFabJson.writeMap(out.name("CustomTags"), value.CustomTags, stringAdapter);
+            entityKeyAdapter.write(out.name("Entity"), value.Entity);
+            entityKeyAdapter.write(out.name("Group"), value.Group);
+            out.endObject();
+        }
+
+        @Override
+        public AcceptGroupInvitationRequest read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            AcceptGroupInvitationRequest value = new AcceptGroupInvitationRequest();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "CustomTags": value.CustomTags = PlayFabJson.readMap(in, stringAdapter); break;
+                        case "Entity": value.Entity = entityKeyAdapter.read(in); break;
+                        case "Group": value.Group = entityKeyAdapter.read(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class AddMembersRequestAdapter extends TypeAdapter<AddMembersRequest> {
+        private final TypeAdapter<String> stringAdapter;
+        private final TypeAdapter<EntityKey> entityKeyAdapter;
+
+        private AddMembersRequestAdapter(Gson gson) {
+            stringAdapter = gson.getAdapter(String.class);
+            entityKeyAdapter = gson.getAdapter(EntityKey.class);
+        }
+
+        @Override
+        public void write(JsonWriter out, AddMembersRequest value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            PlayFabJson.writeMap(out.name("CustomTags"), value.CustomTags, stringAdapter);
+            entityKeyAdapter.write(out.name("Group"), value.Group);
+            PlayFabJson.writeList(out.name("Members"), value.Members, entityKeyAdapter);
+            out.name("RoleId").value(value.RoleId);
+            out.endObject();
+        }
+
+        @Override
+        public AddMembersRequest read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            AddMembersRequest value = new AddMembersRequest();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "CustomTags": value.CustomTags = PlayFabJson.readMap(in, stringAdapter); break;
+                        case "Group": value.Group = entityKeyAdapter.read(in); break;
+                        case "Members": value.Members = PlayFabJson.readList(in, entityKeyAdapter); break;
+                        case "RoleId": value.RoleId = PlayFabJson.readString(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class ApplyToGroupRequestAdapter extends TypeAdapter<ApplyToGroupRequest> {
+        private final TypeAdapter<String> stringAdapter;
+        private final TypeAdapter<EntityKey> entityKeyAdapter;
+
+        private ApplyToGroupRequestAdapter(Gson gson) {
+            stringAdapter = gson.getAdapter(String.class);
+            entityKeyAdapter = gson.getAdapter(EntityKey.class);
+        }
+
+        @Override
+        public void write(JsonWriter out, ApplyToGroupRequest value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.name("AutoAcceptOutstandingInvite").value(value.AutoAcceptOutstandingInvite);
+            PlayFabJson.writeMap(out.name("CustomTags"), value.CustomTags, stringAdapter);
+            entityKeyAdapter.write(out.name("Entity"), value.Entity);
+            entityKeyAdapter.write(out.name("Group"), value.Group);
+            out.endObject();
+        }
+
+        @Override
+        public ApplyToGroupRequest read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            ApplyToGroupRequest value = new ApplyToGroupRequest();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "AutoAcceptOutstandingInvite": value.AutoAcceptOutstandingInvite = PlayFabJson.readBoolean(in); break;
+                        case "CustomTags": value.CustomTags = PlayFabJson.readMap(in, stringAdapter); break;
+                        case "Entity": value.Entity = entityKeyAdapter.read(in); break;
+                        case "Group": value.Group = entityKeyAdapter.read(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class ApplyToGroupResponseAdapter extends TypeAdapter<ApplyToGroupResponse> {
+        private final TypeAdapter<EntityWithLineage> entityWithLineageAdapter;
+        private final TypeAdapter<Date> dateAdapter;
+        private final TypeAdapter<EntityKey> entityKeyAdapter;
+
+        private ApplyToGroupResponseAdapter(Gson gson) {
+            entityWithLineageAdapter = gson.getAdapter(EntityWithLineage.class);
+            dateAdapter = gson.getAdapter(Date.class);
+            entityKeyAdapter = gson.getAdapter(EntityKey.class);
+        }
+
+        @Override
+        public void write(JsonWriter out, ApplyToGroupResponse value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            entityWithLineageAdapter.write(out.name("Entity"), value.Entity);
+            dateAdapter.write(out.name("Expires"), value.Expires);
+            entityKeyAdapter.write(out.name("Group"), value.Group);
+            out.endObject();
+        }
+
+        @Override
+        public ApplyToGroupResponse read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            ApplyToGroupResponse value = new ApplyToGroupResponse();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "Entity": value.Entity = entityWithLineageAdapter.read(in); break;
+                        case "Expires": value.Expires = dateAdapter.read(in); break;
+                        case "Group": value.Group = entityKeyAdapter.read(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class BlockEntityRequestAdapter extends TypeAdapter<BlockEntityRequest> {
+        private final TypeAdapter<String> stringAdapter;
+        private final TypeAdapter<EntityKey> entityKeyAdapter;
+
+        private BlockEntityRequestAdapter(Gson gson) {
+            stringAdapter = gson.getAdapter(String.class);
+            entityKeyAdapter = gson.getAdapter(EntityKey.class);
+        }
+
+        @Override
+        public void write(JsonWriter out, BlockEntityRequest value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            PlayFabJson.writeMap(out.name("CustomTags"), value.CustomTags, stringAdapter);
+            entityKeyAdapter.write(out.name("Entity"), value.Entity);
+            entityKeyAdapter.write(out.name("Group"), value.Group);
+            out.endObject();
+        }
+
+        @Override
+        public BlockEntityRequest read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            BlockEntityRequest value = new BlockEntityRequest();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "CustomTags": value.CustomTags = PlayFabJson.readMap(in, stringAdapter); break;
+                        case "Entity": value.Entity = entityKeyAdapter.read(in); break;
+                        case "Group": value.Group = entityKeyAdapter.read(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class ChangeMemberRoleRequestAdapter extends TypeAdapter<ChangeMemberRoleRequest> {
+        private final TypeAdapter<String> stringAdapter;
+        private final TypeAdapter<EntityKey> entityKeyAdapter;
+
+        private ChangeMemberRoleRequestAdapter(Gson gson) {
+            stringAdapter = gson.getAdapter(String.class);
+            entityKeyAdapter = gson.getAdapter(EntityKey.class);
+        }
+
+        @Override
+        public void write(JsonWriter out, ChangeMemberRoleRequest value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            PlayFabJson.writeMap(out.name("CustomTags"), value.CustomTags, stringAdapter);
+            out.name("DestinationRoleId").value(value.DestinationRoleId);
+            entityKeyAdapter.write(out.name("Group"), value.Group);
+            PlayFabJson.writeList(out.name("Members"), value.Members, entityKeyAdapter);
+            out.name("OriginRoleId").value(value.OriginRoleId);
+            out.endObject();
+        }
+
+        @Override
+        public ChangeMemberRoleRequest read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            ChangeMemberRoleRequest value = new ChangeMemberRoleRequest();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "CustomTags": value.CustomTags = PlayFabJson.readMap(in, stringAdapter); break;
+                        case "DestinationRoleId": value.DestinationRoleId = PlayFabJson.readString(in); break;
+                        case "Group": value.Group = entityKeyAdapter.read(in); break;
+                        case "Members": value.Members = PlayFabJson.readList(in, entityKeyAdapter); break;
+                        case "OriginRoleId": value.OriginRoleId = PlayFabJson.readString(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class CreateGroupRequestAdapter extends TypeAdapter<CreateGroupRequest> {
+        private final TypeAdapter<String> stringAdapter;
+        private final TypeAdapter<EntityKey> entityKeyAdapter;
+
+        private CreateGroupRequestAdapter(Gson gson) {
+            stringAdapter = gson.getAdapter(String.class);
+            entityKeyAdapter = gson.getAdapter(EntityKey.class);
+        }
+
+        @Override
+        public void write(JsonWriter out, CreateGroupRequest value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            PlayFabJson.writeMap(out.name("CustomTags"), value.CustomTags, stringAdapter);
+            entityKeyAdapter.write(out.name("Entity"), value.Entity);
+            out.name("GroupName").value(value.GroupName);
+            out.endObject();
+        }
+
+        @Override
+        public CreateGroupRequest read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            CreateGroupRequest value = new CreateGroupRequest();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "CustomTags": value.CustomTags = PlayFabJson.readMap(in, stringAdapter); break;
+                        case "Entity": value.Entity = entityKeyAdapter.read(in); break;
+                        case "GroupName": value.GroupName = PlayFabJson.readString(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class CreateGroupResponseAdapter extends TypeAdapter<CreateGroupResponse> {
+        private final TypeAdapter<Date> dateAdapter;
+        private final TypeAdapter<EntityKey> entityKeyAdapter;
+        private final TypeAdapter<String> stringAdapter;
+
+        private CreateGroupResponseAdapter(Gson gson) {
+            dateAdapter = gson.getAdapter(Date.class);
+            entityKeyAdapter = gson.getAdapter(EntityKey.class);
+            stringAdapter = gson.getAdapter(String.class);
+        }
+
+        @Override
+        public void write(JsonWriter out, CreateGroupResponse value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.name("AdminRoleId").value(value.AdminRoleId);
+            dateAdapter.write(out.name("Created"), value.Created);
+            entityKeyAdapter.write(out.name("Group"), value.Group);
+            out.name("GroupName").value(value.GroupName);
+            out.name("MemberRoleId").value(value.MemberRoleId);
+            out.name("ProfileVersion").value(value.ProfileVersion);
+            PlayFabJson.writeMap(out.name("Roles"), value.Roles, stringAdapter);
+            out.endObject();
+        }
+
+        @Override
+        public CreateGroupResponse read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            CreateGroupResponse value = new CreateGroupResponse();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "AdminRoleId": value.AdminRoleId = PlayFabJson.readString(in); break;
+                        case "Created": value.Created = dateAdapter.read(in); break;
+                        case "Group": value.Group = entityKeyAdapter.read(in); break;
+                        case "GroupName": value.GroupName = PlayFabJson.readString(in); break;
+                        case "MemberRoleId": value.MemberRoleId = PlayFabJson.readString(in); break;
+                        case "ProfileVersion": value.ProfileVersion = PlayFabJson.readInteger(in); break;
+                        case "Roles": value.Roles = PlayFabJson.readMap(in, stringAdapter); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class CreateGroupRoleRequestAdapter extends TypeAdapter<CreateGroupRoleRequest> {
+        private final TypeAdapter<String> stringAdapter;
+        private final TypeAdapter<EntityKey> entityKeyAdapter;
+
+        private CreateGroupRoleRequestAdapter(Gson gson) {
+            stringAdapter = gson.getAdapter(String.class);
+            entityKeyAdapter = gson.getAdapter(EntityKey.class);
+        }
+
+        @Override
+        public void write(JsonWriter out, CreateGroupRoleRequest value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            PlayFabJson.writeMap(out.name("CustomTags"), value.CustomTags, stringAdapter);
+            entityKeyAdapter.write(out.name("Group"), value.Group);
+            out.name("RoleId").value(value.RoleId);
+            out.name("RoleName").value(value.RoleName);
+            out.endObject();
+        }
+
+        @Override
+        public CreateGroupRoleRequest read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            CreateGroupRoleRequest value = new CreateGroupRoleRequest();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "CustomTags": value.CustomTags = PlayFabJson.readMap(in, stringAdapter); break;
+                        case "Group": value.Group = entityKeyAdapter.read(in); break;
+                        case "RoleId": value.RoleId = PlayFabJson.readString(in); break;
+                        case "RoleName": value.RoleName = PlayFabJson.readString(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class CreateGroupRoleResponseAdapter extends TypeAdapter<CreateGroupRoleResponse> {
+        private CreateGroupRoleResponseAdapter(Gson gson) {
+        }
+
+        @Override
+        public void write(JsonWriter out, CreateGroupRoleResponse value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.name("ProfileVersion").value(value.ProfileVersion);
+            out.name("RoleId").value(value.RoleId);
+            out.name("RoleName").value(value.RoleName);
+            out.endObject();
+        }
+
+        @Override
+        public CreateGroupRoleResponse read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            CreateGroupRoleResponse value = new CreateGroupRoleResponse();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "ProfileVersion": value.ProfileVersion = PlayFabJson.readInteger(in); break;
+                        case "RoleId": value.RoleId = PlayFabJson.readString(in); break;
+                        case "RoleName": value.RoleName = PlayFabJson.readString(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class DeleteGroupRequestAdapter extends TypeAdapter<DeleteGroupRequest> {
+        private final TypeAdapter<String> stringAdapter;
+        private final TypeAdapter<EntityKey> entityKeyAdapter;
+
+        private DeleteGroupRequestAdapter(Gson gson) {
+            stringAdapter = gson.getAdapter(String.class);
+            entityKeyAdapter = gson.getAdapter(EntityKey.class);
+        }
+
+        @Override
+        public void write(JsonWriter out, DeleteGroupRequest value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            PlayFabJson.writeMap(out.name("CustomTags"), value.CustomTags, stringAdapter);
+            entityKeyAdapter.write(out.name("Group"), value.Group);
+            out.endObject();
+        }
+
+        @Override
+        public DeleteGroupRequest read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            DeleteGroupRequest value = new DeleteGroupRequest();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "CustomTags": value.CustomTags = PlayFabJson.readMap(in, stringAdapter); break;
+                        case "Group": value.Group = entityKeyAdapter.read(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class DeleteRoleRequestAdapter extends TypeAdapter<DeleteRoleRequest> {
+        private final TypeAdapter<String> stringAdapter;
+        private final TypeAdapter<EntityKey> entityKeyAdapter;
+
+        private DeleteRoleRequestAdapter(Gson gson) {
+            stringAdapter = gson.getAdapter(String.class);
+            entityKeyAdapter = gson.getAdapter(EntityKey.class);
+        }
+
+        @Override
+        public void write(JsonWriter out, DeleteRoleRequest value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            PlayFabJson.writeMap(out.name("CustomTags"), value.CustomTags, stringAdapter);
+            entityKeyAdapter.write(out.name("Group"), value.Group);
+            out.name("RoleId").value(value.RoleId);
+            out.endObject();
+        }
+
+        @Override
+        public DeleteRoleRequest read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            DeleteRoleRequest value = new DeleteRoleRequest();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "CustomTags": value.CustomTags = PlayFabJson.readMap(in, stringAdapter); break;
+                        case "Group": value.Group = entityKeyAdapter.read(in); break;
+                        case "RoleId": value.RoleId = PlayFabJson.readString(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class EmptyResponseAdapter extends TypeAdapter<EmptyResponse> {
+        private EmptyResponseAdapter(Gson gson) {
+        }
+
+        @Override
+        public void write(JsonWriter out, EmptyResponse value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.endObject();
+        }
+
+        @Override
+        public EmptyResponse read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            EmptyResponse value = new EmptyResponse();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class EntityKeyAdapter extends TypeAdapter<EntityKey> {
+        private EntityKeyAdapter(Gson gson) {
+        }
+
+        @Override
+        public void write(JsonWriter out, EntityKey value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.name("Id").value(value.Id);
+            out.name("Type").value(value.Type);
+            out.endObject();
+        }
+
+        @Override
+        public EntityKey read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            EntityKey value = new EntityKey();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "Id": value.Id = PlayFabJson.readString(in); break;
+                        case "Type": value.Type = PlayFabJson.readString(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class EntityMemberRoleAdapter extends TypeAdapter<EntityMemberRole> {
+        private final TypeAdapter<EntityWithLineage> entityWithLineageAdapter;
+
+        private EntityMemberRoleAdapter(Gson gson) {
+            entityWithLineageAdapter = gson.getAdapter(EntityWithLineage.class);
+        }
+
+        @Override
+        public void write(JsonWriter out, EntityMemberRole value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            PlayFabJson.writeList(out.name("Members"), value.Members, entityWithLineageAdapter);
+            out.name("RoleId").value(value.RoleId);
+            out.name("RoleName").value(value.RoleName);
+            out.endObject();
+        }
+
+        @Override
+        public EntityMemberRole read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            EntityMemberRole value = new EntityMemberRole();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "Members": value.Members = PlayFabJson.readList(in, entityWithLineageAdapter); break;
+                        case "RoleId": value.RoleId = PlayFabJson.readString(in); break;
+                        case "RoleName": value.RoleName = PlayFabJson.readString(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class EntityWithLineageAdapter extends TypeAdapter<EntityWithLineage> {
+        private final TypeAdapter<EntityKey> entityKeyAdapter;
+
+        private EntityWithLineageAdapter(Gson gson) {
+            entityKeyAdapter = gson.getAdapter(EntityKey.class);
+        }
+
+        @Override
+        public void write(JsonWriter out, EntityWithLineage value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            entityKeyAdapter.write(out.name("Key"), value.Key);
+            PlayFabJson.writeMap(out.name("Lineage"), value.Lineage, entityKeyAdapter);
+            out.endObject();
+        }
+
+        @Override
+        public EntityWithLineage read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            EntityWithLineage value = new EntityWithLineage();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "Key": value.Key = entityKeyAdapter.read(in); break;
+                        case "Lineage": value.Lineage = PlayFabJson.readMap(in, entityKeyAdapter); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class GetGroupRequestAdapter extends TypeAdapter<GetGroupRequest> {
+        private final TypeAdapter<String> stringAdapter;
+        private final TypeAdapter<EntityKey> entityKeyAdapter;
+
+        private GetGroupRequestAdapter(Gson gson) {
+            stringAdapter = gson.getAdapter(String.class);
+            entityKeyAdapter = gson.getAdapter(EntityKey.class);
+        }
+
+        @Override
+        public void write(JsonWriter out, GetGroupRequest value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            PlayFabJson.writeMap(out.name("CustomTags"), value.CustomTags, stringAdapter);
+            entityKeyAdapter.write(out.name("Group"), value.Group);
+            out.name("GroupName").value(value.GroupName);
+            out.endObject();
+        }
+
+        @Override
+        public GetGroupRequest read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            GetGroupRequest value = new GetGroupRequest();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "CustomTags": value.CustomTags = PlayFabJson.readMap(in, stringAdapter); break;
+                        case "Group": value.Group = entityKeyAdapter.read(in); break;
+                        case "GroupName": value.GroupName = PlayFabJson.readString(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class GetGroupResponseAdapter extends TypeAdapter<GetGroupResponse> {
+        private final TypeAdapter<Date> dateAdapter;
+        private final TypeAdapter<EntityKey> entityKeyAdapter;
+        private final TypeAdapter<String> stringAdapter;
+
+        private GetGroupResponseAdapter(Gson gson) {
+            dateAdapter = gson.getAdapter(Date.class);
+            entityKeyAdapter = gson.getAdapter(EntityKey.class);
+            stringAdapter = gson.getAdapter(String.class);
+        }
+
+        @Override
+        public void write(JsonWriter out, GetGroupResponse value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.name("AdminRoleId").value(value.AdminRoleId);
+            dateAdapter.write(out.name("Created"), value.Created);
+            entityKeyAdapter.write(out.name("Group"), value.Group);
+            out.name("GroupName").value(value.GroupName);
+            out.name("MemberRoleId").value(value.MemberRoleId);
+            out.name("ProfileVersion").value(value.ProfileVersion);
+            PlayFabJson.writeMap(out.name("Roles"), value.Roles, stringAdapter);
+            out.endObject();
+        }
+
+        @Override
+        public GetGroupResponse read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            GetGroupResponse value = new GetGroupResponse();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "AdminRoleId": value.AdminRoleId = PlayFabJson.readString(in); break;
+                        case "Created": value.Created = dateAdapter.read(in); break;
+                        case "Group": value.Group = entityKeyAdapter.read(in); break;
+                        case "GroupName": value.GroupName = PlayFabJson.readString(in); break;
+                        case "MemberRoleId": value.MemberRoleId = PlayFabJson.readString(in); break;
+                        case "ProfileVersion": value.ProfileVersion = PlayFabJson.readInteger(in); break;
+                        case "Roles": value.Roles = PlayFabJson.readMap(in, stringAdapter); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class GroupApplicationAdapter extends TypeAdapter<GroupApplication> {
+        private final TypeAdapter<EntityWithLineage> entityWithLineageAdapter;
+        private final TypeAdapter<Date> dateAdapter;
+        private final TypeAdapter<EntityKey> entityKeyAdapter;
+
+        private GroupApplicationAdapter(Gson gson) {
+            entityWithLineageAdapter = gson.getAdapter(EntityWithLineage.class);
+            dateAdapter = gson.getAdapter(Date.class);
+            entityKeyAdapter = gson.getAdapter(EntityKey.class);
+        }
+
+        @Override
+        public void write(JsonWriter out, GroupApplication value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            entityWithLineageAdapter.write(out.name("Entity"), value.Entity);
+            dateAdapter.write(out.name("Expires"), value.Expires);
+            entityKeyAdapter.write(out.name("Group"), value.Group);
+            out.endObject();
+        }
+
+        @Override
+        public GroupApplication read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            GroupApplication value = new GroupApplication();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "Entity": value.Entity = entityWithLineageAdapter.read(in); break;
+                        case "Expires": value.Expires = dateAdapter.read(in); break;
+                        case "Group": value.Group = entityKeyAdapter.read(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class GroupBlockAdapter extends TypeAdapter<GroupBlock> {
+        private final TypeAdapter<EntityWithLineage> entityWithLineageAdapter;
+        private final TypeAdapter<EntityKey> entityKeyAdapter;
+
+        private GroupBlockAdapter(Gson gson) {
+            entityWithLineageAdapter = gson.getAdapter(EntityWithLineage.class);
+            entityKeyAdapter = gson.getAdapter(EntityKey.class);
+        }
+
+        @Override
+        public void write(JsonWriter out, GroupBlock value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            entityWithLineageAdapter.write(out.name("Entity"), value.Entity);
+            entityKeyAdapter.write(out.name("Group"), value.Group);
+            out.endObject();
+        }
+
+        @Override
+        public GroupBlock read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            GroupBlock value = new GroupBlock();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "Entity": value.Entity = entityWithLineageAdapter.read(in); break;
+                        case "Group": value.Group = entityKeyAdapter.read(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class GroupInvitationAdapter extends TypeAdapter<GroupInvitation> {
+        private final TypeAdapter<Date> dateAdapter;
+        private final TypeAdapter<EntityKey> entityKeyAdapter;
+        private final TypeAdapter<EntityWithLineage> entityWithLineageAdapter;
+
+        private GroupInvitationAdapter(Gson gson) {
+            dateAdapter = gson.getAdapter(Date.class);
+            entityKeyAdapter = gson.getAdapter(EntityKey.class);
+            entityWithLineageAdapter = gson.getAdapter(EntityWithLineage.class);
+        }
+
+        @Override
+        public void write(JsonWriter out, GroupInvitation value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            dateAdapter.write(out.name("Expires"), value.Expires);
+            entityKeyAdapter.write(out.name("Group"), value.Group);
+            entityWithLineageAdapter.write(out.name("InvitedByEntity"), value.InvitedByEntity);
+            entityWithLineageAdapter.write(out.name("InvitedEntity"), value.InvitedEntity);
+            out.name("RoleId").value(value.RoleId);
+            out.endObject();
+        }
+
+        @Override
+        public GroupInvitation read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            GroupInvitation value = new GroupInvitation();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "Expires": value.Expires = dateAdapter.read(in); break;
+                        case "Group": value.Group = entityKeyAdapter.read(in); break;
+                        case "InvitedByEntity": value.InvitedByEntity = entityWithLineageAdapter.read(in); break;
+                        case "InvitedEntity": value.InvitedEntity = entityWithLineageAdapter.read(in); break;
+                        case "RoleId": value.RoleId = PlayFabJson.readString(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class GroupRoleAdapter extends TypeAdapter<GroupRole> {
+        private GroupRoleAdapter(Gson gson) {
+        }
+
+        @Override
+        public void write(JsonWriter out, GroupRole value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.name("RoleId").value(value.RoleId);
+            out.name("RoleName").value(value.RoleName);
+            out.endObject();
+        }
+
+        @Override
+        public GroupRole read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            GroupRole value = new GroupRole();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "RoleId": value.RoleId = PlayFabJson.readString(in); break;
+                        case "RoleName": value.RoleName = PlayFabJson.readString(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class GroupWithRolesAdapter extends TypeAdapter<GroupWithRoles> {
+        private final TypeAdapter<EntityKey> entityKeyAdapter;
+        private final TypeAdapter<GroupRole> groupRoleAdapter;
+
+        private GroupWithRolesAdapter(Gson gson) {
+            entityKeyAdapter = gson.getAdapter(EntityKey.class);
+            groupRoleAdapter = gson.getAdapter(GroupRole.class);
+        }
+
+        @Override
+        public void write(JsonWriter out, GroupWithRoles value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            entityKeyAdapter.write(out.name("Group"), value.Group);
+            out.name("GroupName").value(value.GroupName);
+            out.name("ProfileVersion").value(value.ProfileVersion);
+            PlayFabJson.writeList(out.name("Roles"), value.Roles, groupRoleAdapter);
+            out.endObject();
+        }
+
+        @Override
+        public GroupWithRoles read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            GroupWithRoles value = new GroupWithRoles();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "Group": value.Group = entityKeyAdapter.read(in); break;
+                        case "GroupName": value.GroupName = PlayFabJson.readString(in); break;
+                        case "ProfileVersion": value.ProfileVersion = PlayFabJson.readInteger(in); break;
+                        case "Roles": value.Roles = PlayFabJson.readList(in, groupRoleAdapter); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class InviteToGroupRequestAdapter extends TypeAdapter<InviteToGroupRequest> {
+        private final TypeAdapter<String> stringAdapter;
+        private final TypeAdapter<EntityKey> entityKeyAdapter;
+
+        private InviteToGroupRequestAdapter(Gson gson) {
+            stringAdapter = gson.getAdapter(String.class);
+            entityKeyAdapter = gson.getAdapter(EntityKey.class);
+        }
+
+        @Override
+        public void write(JsonWriter out, InviteToGroupRequest value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.name("AutoAcceptOutstandingApplication").value(value.AutoAcceptOutstandingApplication);
+            PlayFabJson.writeMap(out.name("CustomTags"), value.CustomTags, stringAdapter);
+            entityKeyAdapter.write(out.name("Entity"), value.Entity);
+            entityKeyAdapter.write(out.name("Group"), value.Group);
+            out.name("RoleId").value(value.RoleId);
+            out.endObject();
+        }
+
+        @Override
+        public InviteToGroupRequest read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            InviteToGroupRequest value = new InviteToGroupRequest();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "AutoAcceptOutstandingApplication": value.AutoAcceptOutstandingApplication = PlayFabJson.readBoolean(in); break;
+                        case "CustomTags": value.CustomTags = PlayFabJson.readMap(in, stringAdapter); break;
+                        case "Entity": value.Entity = entityKeyAdapter.read(in); break;
+                        case "Group": value.Group = entityKeyAdapter.read(in); break;
+                        case "RoleId": value.RoleId = PlayFabJson.readString(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class InviteToGroupResponseAdapter extends TypeAdapter<InviteToGroupResponse> {
+        private final TypeAdapter<Date> dateAdapter;
+        private final TypeAdapter<EntityKey> entityKeyAdapter;
+        private final TypeAdapter<EntityWithLineage> entityWithLineageAdapter;
+
+        private InviteToGroupResponseAdapter(Gson gson) {
+            dateAdapter = gson.getAdapter(Date.class);
+            entityKeyAdapter = gson.getAdapter(EntityKey.class);
+            entityWithLineageAdapter = gson.getAdapter(EntityWithLineage.class);
+        }
+
+        @Override
+        public void write(JsonWriter out, InviteToGroupResponse value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            dateAdapter.write(out.name("Expires"), value.Expires);
+            entityKeyAdapter.write(out.name("Group"), value.Group);
+            entityWithLineageAdapter.write(out.name("InvitedByEntity"), value.InvitedByEntity);
+            entityWithLineageAdapter.write(out.name("InvitedEntity"), value.InvitedEntity);
+            out.name("RoleId").value(value.RoleId);
+            out.endObject();
+        }
+
+        @Override
+        public InviteToGroupResponse read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            InviteToGroupResponse value = new InviteToGroupResponse();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "Expires": value.Expires = dateAdapter.read(in); break;
+                        case "Group": value.Group = entityKeyAdapter.read(in); break;
+                        case "InvitedByEntity": value.InvitedByEntity = entityWithLineageAdapter.read(in); break;
+                        case "InvitedEntity": value.InvitedEntity = entityWithLineageAdapter.read(in); break;
+                        case "RoleId": value.RoleId = PlayFabJson.readString(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class IsMemberRequestAdapter extends TypeAdapter<IsMemberRequest> {
+        private final TypeAdapter<String> stringAdapter;
+        private final TypeAdapter<EntityKey> entityKeyAdapter;
+
+        private IsMemberRequestAdapter(Gson gson) {
+            stringAdapter = gson.getAdapter(String.class);
+            entityKeyAdapter = gson.getAdapter(EntityKey.class);
+        }
+
+        @Override
+        public void write(JsonWriter out, IsMemberRequest value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            PlayFabJson.writeMap(out.name("CustomTags"), value.CustomTags, stringAdapter);
+            entityKeyAdapter.write(out.name("Entity"), value.Entity);
+            entityKeyAdapter.write(out.name("Group"), value.Group);
+            out.name("RoleId").value(value.RoleId);
+            out.endObject();
+        }
+
+        @Override
+        public IsMemberRequest read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            IsMemberRequest value = new IsMemberRequest();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "CustomTags": value.CustomTags = PlayFabJson.readMap(in, stringAdapter); break;
+                        case "Entity": value.Entity = entityKeyAdapter.read(in); break;
+                        case "Group": value.Group = entityKeyAdapter.read(in); break;
+                        case "RoleId": value.RoleId = PlayFabJson.readString(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class IsMemberResponseAdapter extends TypeAdapter<IsMemberResponse> {
+        private IsMemberResponseAdapter(Gson gson) {
+        }
+
+        @Override
+        public void write(JsonWriter out, IsMemberResponse value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.name("IsMember").value(value.IsMember);
+            out.endObject();
+        }
+
+        @Override
+        public IsMemberResponse read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            IsMemberResponse value = new IsMemberResponse();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "IsMember": value.IsMember = PlayFabJson.readBoolean(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class ListGroupApplicationsRequestAdapter extends TypeAdapter<ListGroupApplicationsRequest> {
+        private final TypeAdapter<String> stringAdapter;
+        private final TypeAdapter<EntityKey> entityKeyAdapter;
+
+        private ListGroupApplicationsRequestAdapter(Gson gson) {
+            stringAdapter = gson.getAdapter(String.class);
+            entityKeyAdapter = gson.getAdapter(EntityKey.class);
+        }
+
+        @Override
+        public void write(JsonWriter out, ListGroupApplicationsRequest value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            PlayFabJson.writeMap(out.name("CustomTags"), value.CustomTags, stringAdapter);
+            entityKeyAdapter.write(out.name("Group"), value.Group);
+            out.endObject();
+        }
+
+        @Override
+        public ListGroupApplicationsRequest read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            ListGroupApplicationsRequest value = new ListGroupApplicationsRequest();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "CustomTags": value.CustomTags = PlayFabJson.readMap(in, stringAdapter); break;
+                        case "Group": value.Group = entityKeyAdapter.read(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class ListGroupApplicationsResponseAdapter extends TypeAdapter<ListGroupApplicationsResponse> {
+        private final TypeAdapter<GroupApplication> groupApplicationAdapter;
+
+        private ListGroupApplicationsResponseAdapter(Gson gson) {
+            groupApplicationAdapter = gson.getAdapter(GroupApplication.class);
+        }
+
+        @Override
+        public void write(JsonWriter out, ListGroupApplicationsResponse value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            PlayFabJson.writeList(out.name("Applications"), value.Applications, groupApplicationAdapter);
+            out.endObject();
+        }
+
+        @Override
+        public ListGroupApplicationsResponse read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            ListGroupApplicationsResponse value = new ListGroupApplicationsResponse();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "Applications": value.Applications = PlayFabJson.readList(in, groupApplicationAdapter); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class ListGroupBlocksRequestAdapter extends TypeAdapter<ListGroupBlocksRequest> {
+        private final TypeAdapter<String> stringAdapter;
+        private final TypeAdapter<EntityKey> entityKeyAdapter;
+
+        private ListGroupBlocksRequestAdapter(Gson gson) {
+            stringAdapter = gson.getAdapter(String.class);
+            entityKeyAdapter = gson.getAdapter(EntityKey.class);
+        }
+
+        @Override
+        public void write(JsonWriter out, ListGroupBlocksRequest value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            PlayFabJson.writeMap(out.name("CustomTags"), value.CustomTags, stringAdapter);
+            entityKeyAdapter.write(out.name("Group"), value.Group);
+            out.endObject();
+        }
+
+        @Override
+        public ListGroupBlocksRequest read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            ListGroupBlocksRequest value = new ListGroupBlocksRequest();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "CustomTags": value.CustomTags = PlayFabJson.readMap(in, stringAdapter); break;
+                        case "Group": value.Group = entityKeyAdapter.read(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class ListGroupBlocksResponseAdapter extends TypeAdapter<ListGroupBlocksResponse> {
+        private final TypeAdapter<GroupBlock> groupBlockAdapter;
+
+        private ListGroupBlocksResponseAdapter(Gson gson) {
+            groupBlockAdapter = gson.getAdapter(GroupBlock.class);
+        }
+
+        @Override
+        public void write(JsonWriter out, ListGroupBlocksResponse value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            PlayFabJson.writeList(out.name("BlockedEntities"), value.BlockedEntities, groupBlockAdapter);
+            out.endObject();
+        }
+
+        @Override
+        public ListGroupBlocksResponse read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            ListGroupBlocksResponse value = new ListGroupBlocksResponse();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "BlockedEntities": value.BlockedEntities = PlayFabJson.readList(in, groupBlockAdapter); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class ListGroupInvitationsRequestAdapter extends TypeAdapter<ListGroupInvitationsRequest> {
+        private final TypeAdapter<String> stringAdapter;
+        private final TypeAdapter<EntityKey> entityKeyAdapter;
+
+        private ListGroupInvitationsRequestAdapter(Gson gson) {
+            stringAdapter = gson.getAdapter(String.class);
+            entityKeyAdapter = gson.getAdapter(EntityKey.class);
+        }
+
+        @Override
+        public void write(JsonWriter out, ListGroupInvitationsRequest value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            PlayFabJson.writeMap(out.name("CustomTags"), value.CustomTags, stringAdapter);
+            entityKeyAdapter.write(out.name("Group"), value.Group);
+            out.endObject();
+        }
+
+        @Override
+        public ListGroupInvitationsRequest read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            ListGroupInvitationsRequest value = new ListGroupInvitationsRequest();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "CustomTags": value.CustomTags = PlayFabJson.readMap(in, stringAdapter); break;
+                        case "Group": value.Group = entityKeyAdapter.read(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class ListGroupInvitationsResponseAdapter extends TypeAdapter<ListGroupInvitationsResponse> {
+        private final TypeAdapter<GroupInvitation> groupInvitationAdapter;
+
+        private ListGroupInvitationsResponseAdapter(Gson gson) {
+            groupInvitationAdapter = gson.getAdapter(GroupInvitation.class);
+        }
+
+        @Override
+        public void write(JsonWriter out, ListGroupInvitationsResponse value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            PlayFabJson.writeList(out.name("Invitations"), value.Invitations, groupInvitationAdapter);
+            out.endObject();
+        }
+
+        @Override
+        public ListGroupInvitationsResponse read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            ListGroupInvitationsResponse value = new ListGroupInvitationsResponse();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "Invitations": value.Invitations = PlayFabJson.readList(in, groupInvitationAdapter); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class ListGroupMembersRequestAdapter extends TypeAdapter<ListGroupMembersRequest> {
+        private final TypeAdapter<String> stringAdapter;
+        private final TypeAdapter<EntityKey> entityKeyAdapter;
+
+        private ListGroupMembersRequestAdapter(Gson gson) {
+            stringAdapter = gson.getAdapter(String.class);
+            entityKeyAdapter = gson.getAdapter(EntityKey.class);
+        }
+
+        @Override
+        public void write(JsonWriter out, ListGroupMembersRequest value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            PlayFabJson.writeMap(out.name("CustomTags"), value.CustomTags, stringAdapter);
+            entityKeyAdapter.write(out.name("Group"), value.Group);
+            out.endObject();
+        }
+
+        @Override
+        public ListGroupMembersRequest read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            ListGroupMembersRequest value = new ListGroupMembersRequest();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "CustomTags": value.CustomTags = PlayFabJson.readMap(in, stringAdapter); break;
+                        case "Group": value.Group = entityKeyAdapter.read(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class ListGroupMembersResponseAdapter extends TypeAdapter<ListGroupMembersResponse> {
+        private final TypeAdapter<EntityMemberRole> entityMemberRoleAdapter;
+
+        private ListGroupMembersResponseAdapter(Gson gson) {
+            entityMemberRoleAdapter = gson.getAdapter(EntityMemberRole.class);
+        }
+
+        @Override
+        public void write(JsonWriter out, ListGroupMembersResponse value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            PlayFabJson.writeList(out.name("Members"), value.Members, entityMemberRoleAdapter);
+            out.endObject();
+        }
+
+        @Override
+        public ListGroupMembersResponse read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            ListGroupMembersResponse value = new ListGroupMembersResponse();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "Members": value.Members = PlayFabJson.readList(in, entityMemberRoleAdapter); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class ListMembershipOpportunitiesRequestAdapter extends TypeAdapter<ListMembershipOpportunitiesRequest> {
+        private final TypeAdapter<String> stringAdapter;
+        private final TypeAdapter<EntityKey> entityKeyAdapter;
+
+        private ListMembershipOpportunitiesRequestAdapter(Gson gson) {
+            stringAdapter = gson.getAdapter(String.class);
+            entityKeyAdapter = gson.getAdapter(EntityKey.class);
+        }
+
+        @Override
+        public void write(JsonWriter out, ListMembershipOpportunitiesRequest value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            PlayFabJson.writeMap(out.name("CustomTags"), value.CustomTags, stringAdapter);
+            entityKeyAdapter.write(out.name("Entity"), value.Entity);
+            out.endObject();
+        }
+
+        @Override
+        public ListMembershipOpportunitiesRequest read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            ListMembershipOpportunitiesRequest value = new ListMembershipOpportunitiesRequest();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "CustomTags": value.CustomTags = PlayFabJson.readMap(in, stringAdapter); break;
+                        case "Entity": value.Entity = entityKeyAdapter.read(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class ListMembershipOpportunitiesResponseAdapter extends TypeAdapter<ListMembershipOpportunitiesResponse> {
+        private final TypeAdapter<GroupApplication> groupApplicationAdapter;
+        private final TypeAdapter<GroupInvitation> groupInvitationAdapter;
+
+        private ListMembershipOpportunitiesResponseAdapter(Gson gson) {
+            groupApplicationAdapter = gson.getAdapter(GroupApplication.class);
+            groupInvitationAdapter = gson.getAdapter(GroupInvitation.class);
+        }
+
+        @Override
+        public void write(JsonWriter out, ListMembershipOpportunitiesResponse value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            PlayFabJson.writeList(out.name("Applications"), value.Applications, groupApplicationAdapter);
+            PlayFabJson.writeList(out.name("Invitations"), value.Invitations, groupInvitationAdapter);
+            out.endObject();
+        }
+
+        @Override
+        public ListMembershipOpportunitiesResponse read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            ListMembershipOpportunitiesResponse value = new ListMembershipOpportunitiesResponse();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "Applications": value.Applications = PlayFabJson.readList(in, groupApplicationAdapter); break;
+                        case "Invitations": value.Invitations = PlayFabJson.readList(in, groupInvitationAdapter); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class ListMembershipRequestAdapter extends TypeAdapter<ListMembershipRequest> {
+        private final TypeAdapter<String> stringAdapter;
+        private final TypeAdapter<EntityKey> entityKeyAdapter;
+
+        private ListMembershipRequestAdapter(Gson gson) {
+            stringAdapter = gson.getAdapter(String.class);
+            entityKeyAdapter = gson.getAdapter(EntityKey.class);
+        }
+
+        @Override
+        public void write(JsonWriter out, ListMembershipRequest value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            PlayFabJson.writeMap(out.name("CustomTags"), value.CustomTags, stringAdapter);
+            entityKeyAdapter.write(out.name("Entity"), value.Entity);
+            out.endObject();
+        }
+
+        @Override
+        public ListMembershipRequest read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            ListMembershipRequest value = new ListMembershipRequest();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "CustomTags": value.CustomTags = PlayFabJson.readMap(in, stringAdapter); break;
+                        case "Entity": value.Entity = entityKeyAdapter.read(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class ListMembershipResponseAdapter extends TypeAdapter<ListMembershipResponse> {
+        private final TypeAdapter<GroupWithRoles> groupWithRolesAdapter;
+
+        private ListMembershipResponseAdapter(Gson gson) {
+            groupWithRolesAdapter = gson.getAdapter(GroupWithRoles.class);
+        }
+
+        @Override
+        public void write(JsonWriter out, ListMembershipResponse value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            PlayFabJson.writeList(out.name("Groups"), value.Groups, groupWithRolesAdapter);
+            out.endObject();
+        }
+
+        @Override
+        public ListMembershipResponse read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            ListMembershipResponse value = new ListMembershipResponse();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "Groups": value.Groups = PlayFabJson.readList(in, groupWithRolesAdapter); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class RemoveGroupApplicationRequestAdapter extends TypeAdapter<RemoveGroupApplicationRequest> {
+        private final TypeAdapter<String> stringAdapter;
+        private final TypeAdapter<EntityKey> entityKeyAdapter;
+
+        private RemoveGroupApplicationRequestAdapter(Gson gson) {
+            stringAdapter = gson.getAdapter(String.class);
+            entityKeyAdapter = gson.getAdapter(EntityKey.class);
+        }
+
+        @Override
+        public void write(JsonWriter out, RemoveGroupApplicationRequest value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            PlayFabJson.writeMap(out.name("CustomTags"), value.CustomTags, stringAdapter);
+            entityKeyAdapter.write(out.name("Entity"), value.Entity);
+            entityKeyAdapter.write(out.name("Group"), value.Group);
+            out.endObject();
+        }
+
+        @Override
+        public RemoveGroupApplicationRequest read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            RemoveGroupApplicationRequest value = new RemoveGroupApplicationRequest();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "CustomTags": value.CustomTags = PlayFabJson.readMap(in, stringAdapter); break;
+                        case "Entity": value.Entity = entityKeyAdapter.read(in); break;
+                        case "Group": value.Group = entityKeyAdapter.read(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class RemoveGroupInvitationRequestAdapter extends TypeAdapter<RemoveGroupInvitationRequest> {
+        private final TypeAdapter<String> stringAdapter;
+        private final TypeAdapter<EntityKey> entityKeyAdapter;
+
+        private RemoveGroupInvitationRequestAdapter(Gson gson) {
+            stringAdapter = gson.getAdapter(String.class);
+            entityKeyAdapter = gson.getAdapter(EntityKey.class);
+        }
+
+        @Override
+        public void write(JsonWriter out, RemoveGroupInvitationRequest value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            PlayFabJson.writeMap(out.name("CustomTags"), value.CustomTags, stringAdapter);
+            entityKeyAdapter.write(out.name("Entity"), value.Entity);
+            entityKeyAdapter.write(out.name("Group"), value.Group);
+            out.endObject();
+        }
+
+        @Override
+        public RemoveGroupInvitationRequest read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            RemoveGroupInvitationRequest value = new RemoveGroupInvitationRequest();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "CustomTags": value.CustomTags = PlayFabJson.readMap(in, stringAdapter); break;
+                        case "Entity": value.Entity = entityKeyAdapter.read(in); break;
+                        case "Group": value.Group = entityKeyAdapter.read(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class RemoveMembersRequestAdapter extends TypeAdapter<RemoveMembersRequest> {
+        private final TypeAdapter<String> stringAdapter;
+        private final TypeAdapter<EntityKey> entityKeyAdapter;
+
+        private RemoveMembersRequestAdapter(Gson gson) {
+            stringAdapter = gson.getAdapter(String.class);
+            entityKeyAdapter = gson.getAdapter(EntityKey.class);
+        }
+
+        @Override
+        public void write(JsonWriter out, RemoveMembersRequest value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            PlayFabJson.writeMap(out.name("CustomTags"), value.CustomTags, stringAdapter);
+            entityKeyAdapter.write(out.name("Group"), value.Group);
+            PlayFabJson.writeList(out.name("Members"), value.Members, entityKeyAdapter);
+            out.name("RoleId").value(value.RoleId);
+            out.endObject();
+        }
+
+        @Override
+        public RemoveMembersRequest read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            RemoveMembersRequest value = new RemoveMembersRequest();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "CustomTags": value.CustomTags = PlayFabJson.readMap(in, stringAdapter); break;
+                        case "Group": value.Group = entityKeyAdapter.read(in); break;
+                        case "Members": value.Members = PlayFabJson.readList(in, entityKeyAdapter); break;
+                        case "RoleId": value.RoleId = PlayFabJson.readString(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class UnblockEntityRequestAdapter extends TypeAdapter<UnblockEntityRequest> {
+        private final TypeAdapter<String> stringAdapter;
+        private final TypeAdapter<EntityKey> entityKeyAdapter;
+
+        private UnblockEntityRequestAdapter(Gson gson) {
+            stringAdapter = gson.getAdapter(String.class);
+            entityKeyAdapter = gson.getAdapter(EntityKey.class);
+        }
+
+        @Override
+        public void write(JsonWriter out, UnblockEntityRequest value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            PlayFabJson.writeMap(out.name("CustomTags"), value.CustomTags, stringAdapter);
+            entityKeyAdapter.write(out.name("Entity"), value.Entity);
+            entityKeyAdapter.write(out.name("Group"), value.Group);
+            out.endObject();
+        }
+
+        @Override
+        public UnblockEntityRequest read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            UnblockEntityRequest value = new UnblockEntityRequest();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "CustomTags": value.CustomTags = PlayFabJson.readMap(in, stringAdapter); break;
+                        case "Entity": value.Entity = entityKeyAdapter.read(in); break;
+                        case "Group": value.Group = entityKeyAdapter.read(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class UpdateGroupRequestAdapter extends TypeAdapter<UpdateGroupRequest> {
+        private final TypeAdapter<String> stringAdapter;
+        private final TypeAdapter<EntityKey> entityKeyAdapter;
+
+        private UpdateGroupRequestAdapter(Gson gson) {
+            stringAdapter = gson.getAdapter(String.class);
+            entityKeyAdapter = gson.getAdapter(EntityKey.class);
+        }
+
+        @Override
+        public void write(JsonWriter out, UpdateGroupRequest value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.name("AdminRoleId").value(value.AdminRoleId);
+            PlayFabJson.writeMap(out.name("CustomTags"), value.CustomTags, stringAdapter);
+            out.name("ExpectedProfileVersion").value(value.ExpectedProfileVersion);
+            entityKeyAdapter.write(out.name("Group"), value.Group);
+            out.name("GroupName").value(value.GroupName);
+            out.name("MemberRoleId").value(value.MemberRoleId);
+            out.endObject();
+        }
+
+        @Override
+        public UpdateGroupRequest read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            UpdateGroupRequest value = new UpdateGroupRequest();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "AdminRoleId": value.AdminRoleId = PlayFabJson.readString(in); break;
+                        case "CustomTags": value.CustomTags = PlayFabJson.readMap(in, stringAdapter); break;
+                        case "ExpectedProfileVersion": value.ExpectedProfileVersion = PlayFabJson.readInteger(in); break;
+                        case "Group": value.Group = entityKeyAdapter.read(in); break;
+                        case "GroupName": value.GroupName = PlayFabJson.readString(in); break;
+                        case "MemberRoleId": value.MemberRoleId = PlayFabJson.readString(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class UpdateGroupResponseAdapter extends TypeAdapter<UpdateGroupResponse> {
+        private final TypeAdapter<OperationTypes> operationTypesAdapter;
+
+        private UpdateGroupResponseAdapter(Gson gson) {
+            operationTypesAdapter = gson.getAdapter(OperationTypes.class);
+        }
+
+        @Override
+        public void write(JsonWriter out, UpdateGroupResponse value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.name("OperationReason").value(value.OperationReason);
+            out.name("ProfileVersion").value(value.ProfileVersion);
+            operationTypesAdapter.write(out.name("SetResult"), value.SetResult);
+            out.endObject();
+        }
+
+        @Override
+        public UpdateGroupResponse read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            UpdateGroupResponse value = new UpdateGroupResponse();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "OperationReason": value.OperationReason = PlayFabJson.readString(in); break;
+                        case "ProfileVersion": value.ProfileVersion = PlayFabJson.readInteger(in); break;
+                        case "SetResult": value.SetResult = operationTypesAdapter.read(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class UpdateGroupRoleRequestAdapter extends TypeAdapter<UpdateGroupRoleRequest> {
+        private final TypeAdapter<String> stringAdapter;
+        private final TypeAdapter<EntityKey> entityKeyAdapter;
+
+        private UpdateGroupRoleRequestAdapter(Gson gson) {
+            stringAdapter = gson.getAdapter(String.class);
+            entityKeyAdapter = gson.getAdapter(EntityKey.class);
+        }
+
+        @Override
+        public void write(JsonWriter out, UpdateGroupRoleRequest value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            PlayFabJson.writeMap(out.name("CustomTags"), value.CustomTags, stringAdapter);
+            out.name("ExpectedProfileVersion").value(value.ExpectedProfileVersion);
+            entityKeyAdapter.write(out.name("Group"), value.Group);
+            out.name("RoleId").value(value.RoleId);
+            out.name("RoleName").value(value.RoleName);
+            out.endObject();
+        }
+
+        @Override
+        public UpdateGroupRoleRequest read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            UpdateGroupRoleRequest value = new UpdateGroupRoleRequest();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "CustomTags": value.CustomTags = PlayFabJson.readMap(in, stringAdapter); break;
+                        case "ExpectedProfileVersion": value.ExpectedProfileVersion = PlayFabJson.readInteger(in); break;
+                        case "Group": value.Group = entityKeyAdapter.read(in); break;
+                        case "RoleId": value.RoleId = PlayFabJson.readString(in); break;
+                        case "RoleName": value.RoleName = PlayFabJson.readString(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class UpdateGroupRoleResponseAdapter extends TypeAdapter<UpdateGroupRoleResponse> {
+        private final TypeAdapter<OperationTypes> operationTypesAdapter;
+
+        private UpdateGroupRoleResponseAdapter(Gson gson) {
+            operationTypesAdapter = gson.getAdapter(OperationTypes.class);
+        }
+
+        @Override
+        public void write(JsonWriter out, UpdateGroupRoleResponse value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.name("OperationReason").value(value.OperationReason);
+            out.name("ProfileVersion").value(value.ProfileVersion);
+            operationTypesAdapter.write(out.name("SetResult"), value.SetResult);
+            out.endObject();
+        }
+
+        @Override
+        public UpdateGroupRoleResponse read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            UpdateGroupRoleResponse value = new UpdateGroupRoleResponse();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "OperationReason": value.OperationReason = PlayFabJson.readString(in); break;
+                        case "ProfileVersion": value.ProfileVersion = PlayFabJson.readInteger(in); break;
+                        case "SetResult": value.SetResult = operationTypesAdapter.read(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+}
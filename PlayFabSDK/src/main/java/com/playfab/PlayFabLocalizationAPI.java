@@ -6,12 +6,10 @@ import com.playfab.PlayFabErrors.*;
 import com.playfab.PlayFabSettings;
 import java.util.concurrent.*;
 import java.util.*;
-import com.google.gson.*;
-import com.google.gson.reflect.*;
 
     /** The Localization APIs give you the tools needed to manage language setup in your title. */
 public class PlayFabLocalizationAPI {
-    private static Gson gson = new GsonBuilder().setDateFormat("yyyy-MM-dd'T'HH:mm:ss.SSS'Z'").create();
+    private static final Async async = new Async();
 
     /**
      * Retrieves the list of allowed languages, only accessible by title entities
@@ -22,7 +20,7 @@ public class PlayFabLocalizationAPI {
     public static FutureTask<PlayFabResult<GetLanguageListResponse>> GetLanguageListAsync(final GetLanguageListRequest request) {
         return new FutureTask(new Callable<PlayFabResult<GetLanguageListResponse>>() {
             public PlayFabResult<GetLanguageListResponse> call() throws Exception {
-                return privateGetLanguageListAsync(request);
+                return privateGetLanguageListAsync(null, request);
             }
         });
     }
@@ -36,7 +34,7 @@ public class PlayFabLocalizationAPI {
     public static PlayFabResult<GetLanguageListResponse> GetLanguageList(final GetLanguageListRequest request) {
         FutureTask<PlayFabResult<GetLanguageListResponse>> task = new FutureTask(new Callable<PlayFabResult<GetLanguageListResponse>>() {
             public PlayFabResult<GetLanguageListResponse> call() throws Exception {
-                return privateGetLanguageListAsync(request);
+                return privateGetLanguageListAsync(null, request);
             }
         });
         try {
@@ -51,10 +49,12 @@ public class PlayFabLocalizationAPI {
 
     /** Retrieves the list of allowed languages, only accessible by title entities */
     @SuppressWarnings("unchecked")
-    private static PlayFabResult<GetLanguageListResponse> privateGetLanguageListAsync(final GetLanguageListRequest request) throws Exception {
-        if (PlayFabSettings.EntityToken == null) throw new Exception ("Must call GetEntityToken before you can use the Entity API");
+    static PlayFabResult<GetLanguageListResponse> privateGetLanguageListAsync(final PlayFabInstanceAPI instance, final GetLanguageListRequest request) throws Exception {
+        final PlayFabApiContext context = PlayFabInstanceAPI.contextOf(instance);
+        final String entityToken = context.getEntityToken();
+        if (entityToken == null) throw new Exception ("Must call GetEntityToken before you can use the Entity API");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Locale/GetLanguageList"), request, "X-EntityToken", PlayFabSettings.EntityToken);
+        FutureTask<Object> task = PlayFabHTTP.doPost(context.getURL("/Locale/GetLanguageList"), request, "X-EntityToken", entityToken, GetLanguageListResponse.class);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -65,9 +65,7 @@ public class PlayFabLocalizationAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
-
-        PlayFabJsonSuccess<GetLanguageListResponse> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<GetLanguageListResponse>>(){}.getType());
+        PlayFabJsonSuccess<GetLanguageListResponse> resultData = (PlayFabJsonSuccess<GetLanguageListResponse>) httpResult;
         GetLanguageListResponse result = resultData.data;
 
         PlayFabResult<GetLanguageListResponse> pfResult = new PlayFabResult<GetLanguageListResponse>();
@@ -75,4 +73,31 @@ public class PlayFabLocalizationAPI {
         return pfResult;
     }
 
+    /**
+     * @return Non-blocking versions of every PlayFabLocalizationAPI call, started on PlayFabSettings.AsyncExecutor
+     */
+    public static Async async() {
+        return async;
+    }
+
+    /**
+     * Non-blocking versions of the PlayFabLocalizationAPI calls. Each call is already running when its PlayFabFuture is returned.
+     */
+    public static class Async {
+        private Async() {
+        }
+
+        /**
+         * Retrieves the list of allowed languages, only accessible by title entities
+         * @param request GetLanguageListRequest
+         * @return Running future that will complete with GetLanguageListResponse
+         */
+        public PlayFabFuture<PlayFabResult<GetLanguageListResponse>> GetLanguageList(final GetLanguageListRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<GetLanguageListResponse>>() {
+                public PlayFabResult<GetLanguageListResponse> call() throws Exception {
+                    return privateGetLanguageListAsync(null, request);
+                }
+            });
+        }
+    }
 }
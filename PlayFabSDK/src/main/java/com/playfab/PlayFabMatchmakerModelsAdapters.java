@@ -0,0 +1,601 @@
+package com.playfab;
+
+import java.io.IOException;
+import java.util.Date;
+import com.google.gson.*;
+import com.google.gson.reflect.TypeToken;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
+import com.playfab.PlayFabMatchmakerModels.*;
+import com.playfab.internal.PlayFabJson;
+
+/**
+ * Streaming TypeAdapters for every class in PlayFabMatchmakerModels, so models are read and written without field reflection.
+ * PlayFabJson finds FACTORY through this class name. Enums keep Gson's own adapters, which do no per-call reflection.
+ * Generated from PlayFabMatchmakerModels by PlayFabModelAdaptersGenerator, in the PlayFabSDK tests: regenerate rather than edit.
+ */
+public class PlayFabMatchmakerModelsAdapters {
+    public static final TypeAdapterFactory FACTORY = new TypeAdapterFactory() {
+        @SuppressWarnings("unchecked")
+        public <T> TypeAdapter<T> create(Gson gson, TypeToken<T> type) {
+            Class<?> raw = type.getRawType();
+            if (raw.getDeclaringClass() != PlayFabMatchmakerModels.class)
+                return null;
+            switch (raw.getSimpleName()) {
+                case "AuthUserRequest": return (TypeAdapter<T>) new AuthUserRequestAdapter(gson);
+                case "AuthUserResponse": return (TypeAdapter<T>) new AuthUserResponseAdapter(gson);
+                case "ItemInstance": return (TypeAdapter<T>) new ItemInstanceAdapter(gson);
+                case "PlayerJoinedRequest": return (TypeAdapter<T>) new PlayerJoinedRequestAdapter(gson);
+                case "PlayerJoinedResponse": return (TypeAdapter<T>) new PlayerJoinedResponseAdapter(gson);
+                case "PlayerLeftRequest": return (TypeAdapter<T>) new PlayerLeftRequestAdapter(gson);
+                case "PlayerLeftResponse": return (TypeAdapter<T>) new PlayerLeftResponseAdapter(gson);
+                case "StartGameRequest": return (TypeAdapter<T>) new StartGameRequestAdapter(gson);
+                case "StartGameResponse": return (TypeAdapter<T>) new StartGameResponseAdapter(gson);
+                case "UserInfoRequest": return (TypeAdapter<T>) new UserInfoRequestAdapter(gson);
+                case "UserInfoResponse": return (TypeAdapter<T>) new UserInfoResponseAdapter(gson);
+                case "VirtualCurrencyRechargeTime": return (TypeAdapter<T>) new VirtualCurrencyRechargeTimeAdapter(gson);
+                default: return null;
+            }
+        }
+    };
+
+    private static class AuthUserRequestAdapter extends TypeAdapter<AuthUserRequest> {
+        private AuthUserRequestAdapter(Gson gson) {
+        }
+
+        @Override
+        public void write(JsonWriter out, AuthUserRequest value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.name("AuthorizationTicket").value(value.AuthorizationTicket);
+            out.endObject();
+        }
+
+        @Override
+        public AuthUserRequest read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            AuthUserRequest value = new AuthUserRequest();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "AuthorizationTicket": value.AuthorizationTicket = PlayFabJson.readString(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class AuthUserResponseAdapter extends TypeAdapter<AuthUserResponse> {
+        private AuthUserResponseAdapter(Gson gson) {
+        }
+
+        @Override
+        public void write(JsonWriter out, AuthUserResponse value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.name("Authorized").value(value.Authorized);
+            out.name("PlayFabId").value(value.PlayFabId);
+            out.endObject();
+        }
+
+        @Override
+        public AuthUserResponse read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            AuthUserResponse value = new AuthUserResponse();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "Authorized": value.Authorized = PlayFabJson.readBoolean(in); break;
+                        case "PlayFabId": value.PlayFabId = PlayFabJson.readString(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class ItemInstanceAdapter extends TypeAdapter<ItemInstance> {
+        private final TypeAdapter<String> stringAdapter;
+        private final TypeAdapter<Date> dateAdapter;
+
+        private ItemInstanceAdapter(Gson gson) {
+            stringAdapter = gson.getAdapter(String.class);
+            dateAdapter = gson.getAdapter(Date.class);
+        }
+
+        @Override
+        public void write(JsonWriter out, ItemInstance value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.name("Annotation").value(value.Annotation);
+            PlayFabJson.writeList(out.name("BundleContents"), value.BundleContents, stringAdapter);
+            out.name("BundleParent").value(value.BundleParent);
+            out.name("CatalogVersion").value(value.CatalogVersion);
+            PlayFabJson.writeMap(out.name("CustomData"), value.CustomData, stringAdapter);
+            out.name("DisplayName").value(value.DisplayName);
+            dateAdapter.write(out.name("Expiration"), value.Expiration);
+            out.name("ItemClass").value(value.ItemClass);
+            out.name("ItemId").value(value.ItemId);
+            out.name("ItemInstanceId").value(value.ItemInstanceId);
+            dateAdapter.write(out.name("PurchaseDate"), value.PurchaseDate);
+            out.name("RemainingUses").value(value.RemainingUses);
+            out.name("UnitCurrency").value(value.UnitCurrency);
+            out.name("UnitPrice").value(value.UnitPrice);
+            out.name("UsesIncrementedBy").value(value.UsesIncrementedBy);
+            out.endObject();
+        }
+
+        @Override
+        public ItemInstance read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            ItemInstance value = new ItemInstance();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "Annotation": value.Annotation = PlayFabJson.readString(in); break;
+                        case "BundleContents": value.BundleContents = PlayFabJson.readList(in, stringAdapter); break;
+                        case "BundleParent": value.BundleParent = PlayFabJson.readString(in); break;
+                        case "CatalogVersion": value.CatalogVersion = PlayFabJson.readString(in); break;
+                        case "CustomData": value.CustomData = PlayFabJson.readMap(in, stringAdapter); break;
+                        case "DisplayName": value.DisplayName = PlayFabJson.readString(in); break;
+                        case "Expiration": value.Expiration = dateAdapter.read(in); break;
+                        case "ItemClass": value.ItemClass = PlayFabJson.readString(in); break;
+                        case "ItemId": value.ItemId = PlayFabJson.readString(in); break;
+                        case "ItemInstanceId": value.ItemInstanceId = PlayFabJson.readString(in); break;
+                        case "PurchaseDate": value.PurchaseDate = dateAdapter.read(in); break;
+                        case "RemainingUses": value.RemainingUses = PlayFabJson.readInteger(in); break;
+                        case "UnitCurrency": value.UnitCurrency = PlayFabJson.readString(in); break;
+                        case "UnitPrice": value.UnitPrice = PlayFabJson.readLong(in); break;
+                        case "UsesIncrementedBy": value.UsesIncrementedBy = PlayFabJson.readInteger(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class PlayerJoinedRequestAdapter extends TypeAdapter<PlayerJoinedRequest> {
+        private final TypeAdapter<String> stringAdapter;
+
+        private PlayerJoinedRequestAdapter(Gson gson) {
+            stringAdapter = gson.getAdapter(String.class);
+        }
+
+        @Override
+        public void write(JsonWriter out, PlayerJoinedRequest value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            PlayFabJson.writeMap(out.name("CustomTags"), value.CustomTags, stringAdapter);
+            out.name("LobbyId").value(value.LobbyId);
+            out.name("PlayFabId").value(value.PlayFabId);
+            out.endObject();
+        }
+
+        @Override
+        public PlayerJoinedRequest read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            PlayerJoinedRequest value = new PlayerJoinedRequest();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "CustomTags": value.CustomTags = PlayFabJson.readMap(in, stringAdapter); break;
+                        case "LobbyId": value.LobbyId = PlayFabJson.readString(in); break;
+                        case "PlayFabId": value.PlayFabId = PlayFabJson.readString(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class PlayerJoinedResponseAdapter extends TypeAdapter<PlayerJoinedResponse> {
+        private PlayerJoinedResponseAdapter(Gson gson) {
+        }
+
+        @Override
+        public void write(JsonWriter out, PlayerJoinedResponse value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.endObject();
+        }
+
+        @Override
+        public PlayerJoinedResponse read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            PlayerJoinedResponse value = new PlayerJoinedResponse();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class PlayerLeftRequestAdapter extends TypeAdapter<PlayerLeftRequest> {
+        private final TypeAdapter<String> stringAdapter;
+
+        private PlayerLeftRequestAdapter(Gson gson) {
+            stringAdapter = gson.getAdapter(String.class);
+        }
+
+        @Override
+        public void write(JsonWriter out, PlayerLeftRequest value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            PlayFabJson.writeMap(out.name("CustomTags"), value.CustomTags, stringAdapter);
+            out.name("LobbyId").value(value.LobbyId);
+            out.name("PlayFabId").value(value.PlayFabId);
+            out.endObject();
+        }
+
+        @Override
+        public PlayerLeftRequest read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            PlayerLeftRequest value = new PlayerLeftRequest();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "CustomTags": value.CustomTags = PlayFabJson.readMap(in, stringAdapter); break;
+                        case "LobbyId": value.LobbyId = PlayFabJson.readString(in); break;
+                        case "PlayFabId": value.PlayFabId = PlayFabJson.readString(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class PlayerLeftResponseAdapter extends TypeAdapter<PlayerLeftResponse> {
+        private PlayerLeftResponseAdapter(Gson gson) {
+        }
+
+        @Override
+        public void write(JsonWriter out, PlayerLeftResponse value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.endObject();
+        }
+
+        @Override
+        public PlayerLeftResponse read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            PlayerLeftResponse value = new PlayerLeftResponse();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class StartGameRequestAdapter extends TypeAdapter<StartGameRequest> {
+        private final TypeAdapter<String> stringAdapter;
+        private final TypeAdapter<Region> regionAdapter;
+
+        private StartGameRequestAdapter(Gson gson) {
+            stringAdapter = gson.getAdapter(String.class);
+            regionAdapter = gson.getAdapter(Region.class);
+        }
+
+        @Override
+        public void write(JsonWriter out, StartGameRequest value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.name("Build").value(value.Build);
+            out.name("CustomCommandLineData").value(value.CustomCommandLineData);
+            PlayFabJson.writeMap(out.name("CustomTags"), value.CustomTags, stringAdapter);
+            out.name("ExternalMatchmakerEventEndpoint").value(value.ExternalMatchmakerEventEndpoint);
+            out.name("GameMode").value(value.GameMode);
+            regionAdapter.write(out.name("Region"), value.Region);
+            out.endObject();
+        }
+
+        @Override
+        public StartGameRequest read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            StartGameRequest value = new StartGameRequest();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "Build": value.Build = PlayFabJson.readString(in); break;
+                        case "CustomCommandLineData": value.CustomCommandLineData = PlayFabJson.readString(in); break;
+                        case "CustomTags": value.CustomTags = PlayFabJson.readMap(in, stringAdapter); break;
+                        case "ExternalMatchmakerEventEndpoint": value.ExternalMatchmakerEventEndpoint = PlayFabJson.readString(in); break;
+                        case "GameMode": value.GameMode = PlayFabJson.readString(in); break;
+                        case "Region": value.Region = regionAdapter.read(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class StartGameResponseAdapter extends TypeAdapter<StartGameResponse> {
+        private StartGameResponseAdapter(Gson gson) {
+        }
+
+        @Override
+        public void write(JsonWriter out, StartGameResponse value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.name("GameID").value(value.GameID);
+            out.name("ServerIPV4Address").value(value.ServerIPV4Address);
+            out.name("ServerIPV6Address").value(value.ServerIPV6Address);
+            out.name("ServerPort").value(value.ServerPort);
+            out.name("ServerPublicDNSName").value(value.ServerPublicDNSName);
+            out.endObject();
+        }
+
+        @Override
+        public StartGameResponse read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            StartGameResponse value = new StartGameResponse();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "GameID": value.GameID = PlayFabJson.readString(in); break;
+                        case "ServerIPV4Address": value.ServerIPV4Address = PlayFabJson.readString(in); break;
+                        case "ServerIPV6Address": value.ServerIPV6Address = PlayFabJson.readString(in); break;
+                        case "ServerPort": value.ServerPort = PlayFabJson.readLong(in); break;
+                        case "ServerPublicDNSName": value.ServerPublicDNSName = PlayFabJson.readString(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class UserInfoRequestAdapter extends TypeAdapter<UserInfoRequest> {
+        private final TypeAdapter<String> stringAdapter;
+
+        private UserInfoRequestAdapter(Gson gson) {
+            stringAdapter = gson.getAdapter(String.class);
+        }
+
+        @Override
+        public void write(JsonWriter out, UserInfoRequest value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            PlayFabJson.writeMap(out.name("CustomTags"), value.CustomTags, stringAdapter);
+            out.name("MinCatalogVersion").value(value.MinCatalogVersion);
+            out.name("PlayFabId").value(value.PlayFabId);
+            out.endObject();
+        }
+
+        @Override
+        public UserInfoRequest read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            UserInfoRequest value = new UserInfoRequest();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "CustomTags": value.CustomTags = PlayFabJson.readMap(in, stringAdapter); break;
+                        case "MinCatalogVersion": value.MinCatalogVersion = PlayFabJson.readInteger(in); break;
+                        case "PlayFabId": value.PlayFabId = PlayFabJson.readString(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class UserInfoResponseAdapter extends TypeAdapter<UserInfoResponse> {
+        private final TypeAdapter<ItemInstance> itemInstanceAdapter;
+        private final TypeAdapter<Integer> integerAdapter;
+        private final TypeAdapter<VirtualCurrencyRechargeTime> virtualCurrencyRechargeTimeAdapter;
+
+        private UserInfoResponseAdapter(Gson gson) {
+            itemInstanceAdapter = gson.getAdapter(ItemInstance.class);
+            integerAdapter = gson.getAdapter(Integer.class);
+            virtualCurrencyRechargeTimeAdapter = gson.getAdapter(VirtualCurrencyRechargeTime.class);
+        }
+
+        @Override
+        public void write(JsonWriter out, UserInfoResponse value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            PlayFabJson.writeList(out.name("Inventory"), value.Inventory, itemInstanceAdapter);
+            out.name("IsDeveloper").value(value.IsDeveloper);
+            out.name("PlayFabId").value(value.PlayFabId);
+            out.name("SteamId").value(value.SteamId);
+            out.name("TitleDisplayName").value(value.TitleDisplayName);
+            out.name("Username").value(value.Username);
+            PlayFabJson.writeMap(out.name("VirtualCurrency"), value.VirtualCurrency, integerAdapter);
+            PlayFabJson.writeMap(out.name("VirtualCurrencyRechargeTimes"), value.VirtualCurrencyRechargeTimes, virtualCurrencyRechargeTimeAdapter);
+            out.endObject();
+        }
+
+        @Override
+        public UserInfoResponse read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            UserInfoResponse value = new UserInfoResponse();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "Inventory": value.Inventory = PlayFabJson.readList(in, itemInstanceAdapter); break;
+                        case "IsDeveloper": value.IsDeveloper = PlayFabJson.readBoolean(in); break;
+                        case "PlayFabId": value.PlayFabId = PlayFabJson.readString(in); break;
+                        case "SteamId": value.SteamId = PlayFabJson.readString(in); break;
+                        case "TitleDisplayName": value.TitleDisplayName = PlayFabJson.readString(in); break;
+                        case "Username": value.Username = PlayFabJson.readString(in); break;
+                        case "VirtualCurrency": value.VirtualCurrency = PlayFabJson.readMap(in, integerAdapter); break;
+                        case "VirtualCurrencyRechargeTimes": value.VirtualCurrencyRechargeTimes = PlayFabJson.readMap(in, virtualCurrencyRechargeTimeAdapter); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class VirtualCurrencyRechargeTimeAdapter extends TypeAdapter<VirtualCurrencyRechargeTime> {
+        private final TypeAdapter<Date> dateAdapter;
+
+        private VirtualCurrencyRechargeTimeAdapter(Gson gson) {
+            dateAdapter = gson.getAdapter(Date.class);
+        }
+
+        @Override
+        public void write(JsonWriter out, VirtualCurrencyRechargeTime value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.name("RechargeMax").value(value.RechargeMax);
+            dateAdapter.write(out.name("RechargeTime"), value.RechargeTime);
+            out.name("SecondsToRecharge").value(value.SecondsToRecharge);
+            out.endObject();
+        }
+
+        @Override
+        public VirtualCurrencyRechargeTime read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            VirtualCurrencyRechargeTime value = new VirtualCurrencyRechargeTime();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "RechargeMax": value.RechargeMax = PlayFabJson.readInteger(in); break;
+                        case "RechargeTime": value.RechargeTime = dateAdapter.read(in); break;
+                        case "SecondsToRecharge": value.SecondsToRecharge = PlayFabJson.readInteger(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+}
@@ -0,0 +1,6697 @@
+package com.playfab;
+
+import java.io.IOException;
+import java.util.Date;
+import com.google.gson.*;
+import com.google.gson.reflect.TypeToken;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
+import com.playfab.PlayFabMultiplayerModels.*;
+import com.playfab.internal.PlayFabJson;
+
+/**
+ * Streaming TypeAdapters for every class in PlayFabMultiplayerModels, so models are read and written without field reflection.
+ * PlayFabJson finds FACTORY through this class name. Enums keep Gson's own adapters, which do no per-call reflection.
+ * Generated from PlayFabMultiplayerModels by PlayFabModelAdaptersGenerator, in the PlayFabSDK tests: regenerate rather than edit.
+ */
+public class PlayFabMultiplayerModelsAdapters {
+    public static final TypeAdapterFactory FACTORY = new TypeAdapterFactory() {
+        @SuppressWarnings("unchecked")
+        public <T> TypeAdapter<T> create(Gson gson, TypeToken<T> type) {
+            Class<?> raw = type.getRawType();
+            if (raw.getDeclaringClass() != PlayFabMultiplayerModels.class)
+                return null;
+            switch (raw.getSimpleName()) {
+                case "AssetReference": return (TypeAdapter<T>) new AssetReferenceAdapter(gson);
+                case "AssetReferenceParams": return (TypeAdapter<T>) new AssetReferenceParamsAdapter(gson);
+                case "AssetSummary": return (TypeAdapter<T>) new AssetSummaryAdapter(gson);
+                case "BuildAliasDetailsResponse": return (TypeAdapter<T>) new BuildAliasDetailsResponseAdapter(gson);
+                case "BuildAliasParams": return (TypeAdapter<T>) new BuildAliasParamsAdapter(gson);
+                case "BuildRegion": return (TypeAdapter<T>) new BuildRegionAdapter(gson);
+                case "BuildRegionParams": return (TypeAdapter<T>) new BuildRegionParamsAdapter(gson);
+                case "BuildSelectionCriterion": return (TypeAdapter<T>) new BuildSelectionCriterionAdapter(gson);
+                case "BuildSummary": return (TypeAdapter<T>) new BuildSummaryAdapter(gson);
+                case "CancelAllMatchmakingTicketsForPlayerRequest": return (TypeAdapter<T>) new CancelAllMatchmakingTicketsForPlayerRequestAdapter(gson);
+                case "CancelAllMatchmakingTicketsForPlayerResult": return (TypeAdapter<T>) new CancelAllMatchmakingTicketsForPlayerResultAdapter(gson);
+                case "CancelAllServerBackfillTicketsForPlayerRequest": return (TypeAdapter<T>) new CancelAllServerBackfillTicketsForPlayerRequestAdapter(gson);
+                case "CancelAllServerBackfillTicketsForPlayerResult": return (TypeAdapter<T>) new CancelAllServerBackfillTicketsForPlayerResultAdapter(gson);
+                case "CancelMatchmakingTicketRequest": return (TypeAdapter<T>) new CancelMatchmakingTicketRequestAdapter(gson);
+                case "CancelMatchmakingTicketResult": return (TypeAdapter<T>) new CancelMatchmakingTicketResultAdapter(gson);
+                case "CancelServerBackfillTicketRequest": return (TypeAdapter<T>) new CancelServerBackfillTicketRequestAdapter(gson);
+                case "CancelServerBackfillTicketResult": return (TypeAdapter<T>) new CancelServerBackfillTicketResultAdapter(gson);
+                case "Certificate": return (TypeAdapter<T>) new CertificateAdapter(gson);
+                case "CertificateSummary": return (TypeAdapter<T>) new CertificateSummaryAdapter(gson);
+                case "ConnectedPlayer": return (TypeAdapter<T>) new ConnectedPlayerAdapter(gson);
+                case "ContainerImageReference": return (TypeAdapter<T>) new ContainerImageReferenceAdapter(gson);
+                case "CoreCapacity": return (TypeAdapter<T>) new CoreCapacityAdapter(gson);
+                case "CoreCapacityChange": return (TypeAdapter<T>) new CoreCapacityChangeAdapter(gson);
+                case "CreateBuildAliasRequest": return (TypeAdapter<T>) new CreateBuildAliasRequestAdapter(gson);
+                case "CreateBuildWithCustomContainerRequest": return (TypeAdapter<T>) new CreateBuildWithCustomContainerRequestAdapter(gson);
+                case "CreateBuildWithCustomContainerResponse": return (TypeAdapter<T>) new CreateBuildWithCustomContainerResponseAdapter(gson);
+                case "CreateBuildWithManagedContainerRequest": return (TypeAdapter<T>) new CreateBuildWithManagedContainerRequestAdapter(gson);
+                case "CreateBuildWithManagedContainerResponse": return (TypeAdapter<T>) new CreateBuildWithManagedContainerResponseAdapter(gson);
+                case "CreateBuildWithProcessBasedServerRequest": return (TypeAdapter<T>) new CreateBuildWithProcessBasedServerRequestAdapter(gson);
+                case "CreateBuildWithProcessBasedServerResponse": return (TypeAdapter<T>) new CreateBuildWithProcessBasedServerResponseAdapter(gson);
+                case "CreateMatchmakingTicketRequest": return (TypeAdapter<T>) new CreateMatchmakingTicketRequestAdapter(gson);
+                case "CreateMatchmakingTicketResult": return (TypeAdapter<T>) new CreateMatchmakingTicketResultAdapter(gson);
+                case "CreateRemoteUserRequest": return (TypeAdapter<T>) new CreateRemoteUserRequestAdapter(gson);
+                case "CreateRemoteUserResponse": return (TypeAdapter<T>) new CreateRemoteUserResponseAdapter(gson);
+                case "CreateServerBackfillTicketRequest": return (TypeAdapter<T>) new CreateServerBackfillTicketRequestAdapter(gson);
+                case "CreateServerBackfillTicketResult": return (TypeAdapter<T>) new CreateServerBackfillTicketResultAdapter(gson);
+                case "CreateServerMatchmakingTicketRequest": return (TypeAdapter<T>) new CreateServerMatchmakingTicketRequestAdapter(gson);
+                case "CreateTitleMultiplayerServersQuotaChangeRequest": return (TypeAdapter<T>) new CreateTitleMultiplayerServersQuotaChangeRequestAdapter(gson);
+                case "CreateTitleMultiplayerServersQuotaChangeResponse": return (TypeAdapter<T>) new CreateTitleMultiplayerServersQuotaChangeResponseAdapter(gson);
+                case "CurrentServerStats": return (TypeAdapter<T>) new CurrentServerStatsAdapter(gson);
+                case "DeleteAssetRequest": return (TypeAdapter<T>) new DeleteAssetRequestAdapter(gson);
+                case "DeleteBuildAliasRequest": return (TypeAdapter<T>) new DeleteBuildAliasRequestAdapter(gson);
+                case "DeleteBuildRegionRequest": return (TypeAdapter<T>) new DeleteBuildRegionRequestAdapter(gson);
+                case "DeleteBuildRequest": return (TypeAdapter<T>) new DeleteBuildRequestAdapter(gson);
+                case "DeleteCertificateRequest": return (TypeAdapter<T>) new DeleteCertificateRequestAdapter(gson);
+                case "DeleteContainerImageRequest": return (TypeAdapter<T>) new DeleteContainerImageRequestAdapter(gson);
+                case "DeleteRemoteUserRequest": return (TypeAdapter<T>) new DeleteRemoteUserRequestAdapter(gson);
+                case "DynamicStandbySettings": return (TypeAdapter<T>) new DynamicStandbySettingsAdapter(gson);
+                case "DynamicStandbyThreshold": return (TypeAdapter<T>) new DynamicStandbyThresholdAdapter(gson);
+                case "EmptyResponse": return (TypeAdapter<T>) new EmptyResponseAdapter(gson);
+                case "EnableMultiplayerServersForTitleRequest": return (TypeAdapter<T>) new EnableMultiplayerServersForTitleRequestAdapter(gson);
+                case "EnableMultiplayerServersForTitleResponse": return (TypeAdapter<T>) new EnableMultiplayerServersForTitleResponseAdapter(gson);
+                case "EntityKey": return (TypeAdapter<T>) new EntityKeyAdapter(gson);
+                case "GameCertificateReference": return (TypeAdapter<T>) new GameCertificateReferenceAdapter(gson);
+                case "GameCertificateReferenceParams": return (TypeAdapter<T>) new GameCertificateReferenceParamsAdapter(gson);
+                case "GetAssetDownloadUrlRequest": return (TypeAdapter<T>) new GetAssetDownloadUrlRequestAdapter(gson);
+                case "GetAssetDownloadUrlResponse": return (TypeAdapter<T>) new GetAssetDownloadUrlResponseAdapter(gson);
+                case "GetAssetUploadUrlRequest": return (TypeAdapter<T>) new GetAssetUploadUrlRequestAdapter(gson);
+                case "GetAssetUploadUrlResponse": return (TypeAdapter<T>) new GetAssetUploadUrlResponseAdapter(gson);
+                case "GetBuildAliasRequest": return (TypeAdapter<T>) new GetBuildAliasRequestAdapter(gson);
+                case "GetBuildRequest": return (TypeAdapter<T>) new GetBuildRequestAdapter(gson);
+                case "GetBuildResponse": return (TypeAdapter<T>) new GetBuildResponseAdapter(gson);
+                case "GetContainerRegistryCredentialsRequest": return (TypeAdapter<T>) new GetContainerRegistryCredentialsRequestAdapter(gson);
+                case "GetContainerRegistryCredentialsResponse": return (TypeAdapter<T>) new GetContainerRegistryCredentialsResponseAdapter(gson);
+                case "GetMatchmakingTicketRequest": return (TypeAdapter<T>) new GetMatchmakingTicketRequestAdapter(gson);
+                case "GetMatchmakingTicketResult": return (TypeAdapter<T>) new GetMatchmakingTicketResultAdapter(gson);
+                case "GetMatchRequest": return (TypeAdapter<T>) new GetMatchRequestAdapter(gson);
+                case "GetMatchResult": return (TypeAdapter<T>) new GetMatchResultAdapter(gson);
+                case "GetMultiplayerServerDetailsRequest": return (TypeAdapter<T>) new GetMultiplayerServerDetailsRequestAdapter(gson);
+                case "GetMultiplayerServerDetailsResponse": return (TypeAdapter<T>) new GetMultiplayerServerDetailsResponseAdapter(gson);
+                case "GetMultiplayerServerLogsRequest": return (TypeAdapter<T>) new GetMultiplayerServerLogsRequestAdapter(gson);
+                case "GetMultiplayerServerLogsResponse": return (TypeAdapter<T>) new GetMultiplayerServerLogsResponseAdapter(gson);
+                case "GetMultiplayerSessionLogsBySessionIdRequest": return (TypeAdapter<T>) new GetMultiplayerSessionLogsBySessionIdRequestAdapter(gson);
+                case "GetQueueStatisticsRequest": return (TypeAdapter<T>) new GetQueueStatisticsRequestAdapter(gson);
+                case "GetQueueStatisticsResult": return (TypeAdapter<T>) new GetQueueStatisticsResultAdapter(gson);
+                case "GetRemoteLoginEndpointRequest": return (TypeAdapter<T>) new GetRemoteLoginEndpointRequestAdapter(gson);
+                case "GetRemoteLoginEndpointResponse": return (TypeAdapter<T>) new GetRemoteLoginEndpointResponseAdapter(gson);
+                case "GetServerBackfillTicketRequest": return (TypeAdapter<T>) new GetServerBackfillTicketRequestAdapter(gson);
+                case "GetServerBackfillTicketResult": return (TypeAdapter<T>) new GetServerBackfillTicketResultAdapter(gson);
+                case "GetTitleEnabledForMultiplayerServersStatusRequest": return (TypeAdapter<T>) new GetTitleEnabledForMultiplayerServersStatusRequestAdapter(gson);
+                case "GetTitleEnabledForMultiplayerServersStatusResponse": return (TypeAdapter<T>) new GetTitleEnabledForMultiplayerServersStatusResponseAdapter(gson);
+                case "GetTitleMultiplayerServersQuotaChangeRequest": return (TypeAdapter<T>) new GetTitleMultiplayerServersQuotaChangeRequestAdapter(gson);
+                case "GetTitleMultiplayerServersQuotaChangeResponse": return (TypeAdapter<T>) new GetTitleMultiplayerServersQuotaChangeResponseAdapter(gson);
+                case "GetTitleMultiplayerServersQuotasRequest": return (TypeAdapter<T>) new GetTitleMultiplayerServersQuotasRequestAdapter(gson);
+                case "GetTitleMultiplayerServersQuotasResponse": return (TypeAdapter<T>) new GetTitleMultiplayerServersQuotasResponseAdapter(gson);
+                case "InstrumentationConfiguration": return (TypeAdapter<T>) new InstrumentationConfigurationAdapter(gson);
+                case "JoinMatchmakingTicketRequest": return (TypeAdapter<T>) new JoinMatchmakingTicketRequestAdapter(gson);
+                case "JoinMatchmakingTicketResult": return (TypeAdapter<T>) new JoinMatchmakingTicketResultAdapter(gson);
+                case "LinuxInstrumentationConfiguration": return (TypeAdapter<T>) new LinuxInstrumentationConfigurationAdapter(gson);
+                case "ListAssetSummariesRequest": return (TypeAdapter<T>) new ListAssetSummariesRequestAdapter(gson);
+                case "ListAssetSummariesResponse": return (TypeAdapter<T>) new ListAssetSummariesResponseAdapter(gson);
+                case "ListBuildAliasesRequest": return (TypeAdapter<T>) new ListBuildAliasesRequestAdapter(gson);
+                case "ListBuildAliasesResponse": return (TypeAdapter<T>) new ListBuildAliasesResponseAdapter(gson);
+                case "ListBuildSummariesRequest": return (TypeAdapter<T>) new ListBuildSummariesRequestAdapter(gson);
+                case "ListBuildSummariesResponse": return (TypeAdapter<T>) new ListBuildSummariesResponseAdapter(gson);
+                case "ListCertificateSummariesRequest": return (TypeAdapter<T>) new ListCertificateSummariesRequestAdapter(gson);
+                case "ListCertificateSummariesResponse": return (TypeAdapter<T>) new ListCertificateSummariesResponseAdapter(gson);
+                case "ListContainerImagesRequest": return (TypeAdapter<T>) new ListContainerImagesRequestAdapter(gson);
+                case "ListContainerImagesResponse": return (TypeAdapter<T>) new ListContainerImagesResponseAdapter(gson);
+                case "ListContainerImageTagsRequest": return (TypeAdapter<T>) new ListContainerImageTagsRequestAdapter(gson);
+                case "ListContainerImageTagsResponse": return (TypeAdapter<T>) new ListContainerImageTagsResponseAdapter(gson);
+                case "ListMatchmakingTicketsForPlayerRequest": return (TypeAdapter<T>) new ListMatchmakingTicketsForPlayerRequestAdapter(gson);
+                case "ListMatchmakingTicketsForPlayerResult": return (TypeAdapter<T>) new ListMatchmakingTicketsForPlayerResultAdapter(gson);
+                case "ListMultiplayerServersRequest": return (TypeAdapter<T>) new ListMultiplayerServersRequestAdapter(gson);
+                case "ListMultiplayerServersResponse": return (TypeAdapter<T>) new ListMultiplayerServersResponseAdapter(gson);
+                case "ListPartyQosServersRequest": return (TypeAdapter<T>) new ListPartyQosServersRequestAdapter(gson);
+                case "ListPartyQosServersResponse": return (TypeAdapter<T>) new ListPartyQosServersResponseAdapter(gson);
+                case "ListQosServersForTitleRequest": return (TypeAdapter<T>) new ListQosServersForTitleRequestAdapter(gson);
+                case "ListQosServersForTitleResponse": return (TypeAdapter<T>) new ListQosServersForTitleResponseAdapter(gson);
+                case "ListServerBackfillTicketsForPlayerRequest": return (TypeAdapter<T>) new ListServerBackfillTicketsForPlayerRequestAdapter(gson);
+                case "ListServerBackfillTicketsForPlayerResult": return (TypeAdapter<T>) new ListServerBackfillTicketsForPlayerResultAdapter(gson);
+                case "ListTitleMultiplayerServersQuotaChangesRequest": return (TypeAdapter<T>) new ListTitleMultiplayerServersQuotaChangesRequestAdapter(gson);
+                case "ListTitleMultiplayerServersQuotaChangesResponse": return (TypeAdapter<T>) new ListTitleMultiplayerServersQuotaChangesResponseAdapter(gson);
+                case "ListVirtualMachineSummariesRequest": return (TypeAdapter<T>) new ListVirtualMachineSummariesRequestAdapter(gson);
+                case "ListVirtualMachineSummariesResponse": return (TypeAdapter<T>) new ListVirtualMachineSummariesResponseAdapter(gson);
+                case "MatchmakingPlayer": return (TypeAdapter<T>) new MatchmakingPlayerAdapter(gson);
+                case "MatchmakingPlayerAttributes": return (TypeAdapter<T>) new MatchmakingPlayerAttributesAdapter(gson);
+                case "MatchmakingPlayerWithTeamAssignment": return (TypeAdapter<T>) new MatchmakingPlayerWithTeamAssignmentAdapter(gson);
+                case "MultiplayerServerSummary": return (TypeAdapter<T>) new MultiplayerServerSummaryAdapter(gson);
+                case "Port": return (TypeAdapter<T>) new PortAdapter(gson);
+                case "QosServer": return (TypeAdapter<T>) new QosServerAdapter(gson);
+                case "QuotaChange": return (TypeAdapter<T>) new QuotaChangeAdapter(gson);
+                case "RequestMultiplayerServerRequest": return (TypeAdapter<T>) new RequestMultiplayerServerRequestAdapter(gson);
+                case "RequestMultiplayerServerResponse": return (TypeAdapter<T>) new RequestMultiplayerServerResponseAdapter(gson);
+                case "RolloverContainerRegistryCredentialsRequest": return (TypeAdapter<T>) new RolloverContainerRegistryCredentialsRequestAdapter(gson);
+                case "RolloverContainerRegistryCredentialsResponse": return (TypeAdapter<T>) new RolloverContainerRegistryCredentialsResponseAdapter(gson);
+                case "Schedule": return (TypeAdapter<T>) new ScheduleAdapter(gson);
+                case "ScheduledStandbySettings": return (TypeAdapter<T>) new ScheduledStandbySettingsAdapter(gson);
+                case "ServerDetails": return (TypeAdapter<T>) new ServerDetailsAdapter(gson);
+                case "ShutdownMultiplayerServerRequest": return (TypeAdapter<T>) new ShutdownMultiplayerServerRequestAdapter(gson);
+                case "Statistics": return (TypeAdapter<T>) new StatisticsAdapter(gson);
+                case "TitleMultiplayerServersQuotas": return (TypeAdapter<T>) new TitleMultiplayerServersQuotasAdapter(gson);
+                case "UntagContainerImageRequest": return (TypeAdapter<T>) new UntagContainerImageRequestAdapter(gson);
+                case "UpdateBuildAliasRequest": return (TypeAdapter<T>) new UpdateBuildAliasRequestAdapter(gson);
+                case "UpdateBuildNameRequest": return (TypeAdapter<T>) new UpdateBuildNameRequestAdapter(gson);
+                case "UpdateBuildRegionRequest": return (TypeAdapter<T>) new UpdateBuildRegionRequestAdapter(gson);
+                case "UpdateBuildRegionsRequest": return (TypeAdapter<T>) new UpdateBuildRegionsRequestAdapter(gson);
+                case "UploadCertificateRequest": return (TypeAdapter<T>) new UploadCertificateRequestAdapter(gson);
+                case "VirtualMachineSummary": return (TypeAdapter<T>) new VirtualMachineSummaryAdapter(gson);
+                default: return null;
+            }
+        }
+    };
+
+    private static class AssetReferenceAdapter extends TypeAdapter<AssetReference> {
+        private AssetReferenceAdapter(Gson gson) {
+        }
+
+        @Override
+        public void write(JsonWriter out, AssetReference value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.name("FileName").value(value.FileName);
+            out.name("MountPath").value(value.MountPath);
+            out.endObject();
+        }
+
+        @Override
+        public AssetReference read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            AssetReference value = new AssetReference();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "FileName": value.FileName = PlayFabJson.readString(in); break;
+                        case "MountPath": value.MountPath = PlayFabJson.readString(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class AssetReferenceParamsAdapter extends TypeAdapter<AssetReferenceParams> {
+        private AssetReferenceParamsAdapter(Gson gson) {
+        }
+
+        @Override
+        public void write(JsonWriter out, AssetReferenceParams value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.name("FileName").value(value.FileName);
+            out.name("MountPath").value(value.MountPath);
+            out.endObject();
+        }
+
+        @Override
+        public AssetReferenceParams read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            AssetReferenceParams value = new AssetReferenceParams();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "FileName": value.FileName = PlayFabJson.readString(in); break;
+                        case "MountPath": value.MountPath = PlayFabJson.readString(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class AssetSummaryAdapter extends TypeAdapter<AssetSummary> {
+        private final TypeAdapter<String> stringAdapter;
+
+        private AssetSummaryAdapter(Gson gson) {
+            stringAdapter = gson.getAdapter(String.class);
+        }
+
+        @Override
+        public void write(JsonWriter out, AssetSummary value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.name("FileName").value(value.FileName);
+            PlayFabJson.writeMap(out.name("Metadata"), value.Metadata, stringAdapter);
+            out.endObject();
+        }
+
+        @Override
+        public AssetSummary read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            AssetSummary value = new AssetSummary();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "FileName": value.FileName = PlayFabJson.readString(in); break;
+                        case "Metadata": value.Metadata = PlayFabJson.readMap(in, stringAdapter); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class BuildAliasDetailsResponseAdapter extends TypeAdapter<BuildAliasDetailsResponse> {
+        private final TypeAdapter<BuildSelectionCriterion> buildSelectionCriterionAdapter;
+
+        private BuildAliasDetailsResponseAdapter(Gson gson) {
+            buildSelectionCriterionAdapter = gson.getAdapter(BuildSelectionCriterion.class);
+        }
+
+        @Override
+        public void write(JsonWriter out, BuildAliasDetailsResponse value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.name("AliasId").value(value.AliasId);
+            out.name("AliasName").value(value.AliasName);
+            PlayFabJson.writeList(out.name("BuildSelectionCriteria"), value.BuildSelectionCriteria, buildSelectionCriterionAdapter);
+            out.endObject();
+        }
+
+        @Override
+        public BuildAliasDetailsResponse read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            BuildAliasDetailsResponse value = new BuildAliasDetailsResponse();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "AliasId": value.AliasId = PlayFabJson.readString(in); break;
+                        case "AliasName": value.AliasName = PlayFabJson.readString(in); break;
+                        case "BuildSelectionCriteria": value.BuildSelectionCriteria = PlayFabJson.readList(in, buildSelectionCriterionAdapter); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class BuildAliasParamsAdapter extends TypeAdapter<BuildAliasParams> {
+        private BuildAliasParamsAdapter(Gson gson) {
+        }
+
+        @Override
+        public void write(JsonWriter out, BuildAliasParams value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.name("AliasId").value(value.AliasId);
+            out.endObject();
+        }
+
+        @Override
+        public BuildAliasParams read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            BuildAliasParams value = new BuildAliasParams();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "AliasId": value.AliasId = PlayFabJson.readString(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class BuildRegionAdapter extends TypeAdapter<BuildRegion> {
+        private final TypeAdapter<CurrentServerStats> currentServerStatsAdapter;
+        private final TypeAdapter<DynamicStandbySettings> dynamicStandbySettingsAdapter;
+        private final TypeAdapter<ScheduledStandbySettings> scheduledStandbySettingsAdapter;
+        private final TypeAdapter<AzureVmSize> azureVmSizeAdapter;
+
+        private BuildRegionAdapter(Gson gson) {
+            currentServerStatsAdapter = gson.getAdapter(CurrentServerStats.class);
+            dynamicStandbySettingsAdapter = gson.getAdapter(DynamicStandbySettings.class);
+            scheduledStandbySettingsAdapter = gson.getAdapter(ScheduledStandbySettings.class);
+            azureVmSizeAdapter = gson.getAdapter(AzureVmSize.class);
+        }
+
+        @Override
+        public void write(JsonWriter out, BuildRegion value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            currentServerStatsAdapter.write(out.name("CurrentServerStats"), value.CurrentServerStats);
+            dynamicStandbySettingsAdapter.write(out.name("DynamicStandbySettings"), value.DynamicStandbySettings);
+            out.name("MaxServers").value(value.MaxServers);
+            out.name("MultiplayerServerCountPerVm").value(value.MultiplayerServerCountPerVm);
+            out.name("Region").value(value.Region);
+            scheduledStandbySettingsAdapter.write(out.name("ScheduledStandbySettings"), value.ScheduledStandbySettings);
+            out.name("StandbyServers").value(value.StandbyServers);
+            out.name("Status").value(value.Status);
+            azureVmSizeAdapter.write(out.name("VmSize"), value.VmSize);
+            out.endObject();
+        }
+
+        @Override
+        public BuildRegion read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            BuildRegion value = new BuildRegion();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "CurrentServerStats": value.CurrentServerStats = currentServerStatsAdapter.read(in); break;
+                        case "DynamicStandbySettings": value.DynamicStandbySettings = dynamicStandbySettingsAdapter.read(in); break;
+                        case "MaxServers": value.MaxServers = PlayFabJson.readInteger(in); break;
+                        case "MultiplayerServerCountPerVm": value.MultiplayerServerCountPerVm = PlayFabJson.readInteger(in); break;
+                        case "Region": value.Region = PlayFabJson.readString(in); break;
+                        case "ScheduledStandbySettings": value.ScheduledStandbySettings = scheduledStandbySettingsAdapter.read(in); break;
+                        case "StandbyServers": value.StandbyServers = PlayFabJson.readInteger(in); break;
+                        case "Status": value.Status = PlayFabJson.readString(in); break;
+                        case "VmSize": value.VmSize = azureVmSizeAdapter.read(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class BuildRegionParamsAdapter extends TypeAdapter<BuildRegionParams> {
+        private final TypeAdapter<DynamicStandbySettings> dynamicStandbySettingsAdapter;
+        private final TypeAdapter<ScheduledStandbySettings> scheduledStandbySettingsAdapter;
+        private final TypeAdapter<AzureVmSize> azureVmSizeAdapter;
+
+        private BuildRegionParamsAdapter(Gson gson) {
+            dynamicStandbySettingsAdapter = gson.getAdapter(DynamicStandbySettings.class);
+            scheduledStandbySettingsAdapter = gson.getAdapter(ScheduledStandbySettings.class);
+            azureVmSizeAdapter = gson.getAdapter(AzureVmSize.class);
+        }
+
+        @Override
+        public void write(JsonWriter out, BuildRegionParams value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            dynamicStandbySettingsAdapter.write(out.name("DynamicStandbySettings"), value.DynamicStandbySettings);
+            out.name("MaxServers").value(value.MaxServers);
+            out.name("MultiplayerServerCountPerVm").value(value.MultiplayerServerCountPerVm);
+            out.name("Region").value(value.Region);
+            scheduledStandbySettingsAdapter.write(out.name("ScheduledStandbySettings"), value.ScheduledStandbySettings);
+            out.name("StandbyServers").value(value.StandbyServers);
+            azureVmSizeAdapter.write(out.name("VmSize"), value.VmSize);
+            out.endObject();
+        }
+
+        @Override
+        public BuildRegionParams read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            BuildRegionParams value = new BuildRegionParams();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "DynamicStandbySettings": value.DynamicStandbySettings = dynamicStandbySettingsAdapter.read(in); break;
+                        case "MaxServers": value.MaxServers = PlayFabJson.readInteger(in); break;
+                        case "MultiplayerServerCountPerVm": value.MultiplayerServerCountPerVm = PlayFabJson.readInteger(in); break;
+                        case "Region": value.Region = PlayFabJson.readString(in); break;
+                        case "ScheduledStandbySettings": value.ScheduledStandbySettings = scheduledStandbySettingsAdapter.read(in); break;
+                        case "StandbyServers": value.StandbyServers = PlayFabJson.readInteger(in); break;
+                        case "VmSize": value.VmSize = azureVmSizeAdapter.read(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class BuildSelectionCriterionAdapter extends TypeAdapter<BuildSelectionCriterion> {
+        private final TypeAdapter<Long> longAdapter;
+
+        private BuildSelectionCriterionAdapter(Gson gson) {
+            longAdapter = gson.getAdapter(Long.class);
+        }
+
+        @Override
+        public void write(JsonWriter out, BuildSelectionCriterion value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            PlayFabJson.writeMap(out.name("BuildWeightDistribution"), value.BuildWeightDistribution, longAdapter);
+            out.endObject();
+        }
+
+        @Override
+        public BuildSelectionCriterion read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            BuildSelectionCriterion value = new BuildSelectionCriterion();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "BuildWeightDistribution": value.BuildWeightDistribution = PlayFabJson.readMap(in, longAdapter); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class BuildSummaryAdapter extends TypeAdapter<BuildSummary> {
+        private final TypeAdapter<Date> dateAdapter;
+        private final TypeAdapter<String> stringAdapter;
+        private final TypeAdapter<BuildRegion> buildRegionAdapter;
+
+        private BuildSummaryAdapter(Gson gson) {
+            dateAdapter = gson.getAdapter(Date.class);
+            stringAdapter = gson.getAdapter(String.class);
+            buildRegionAdapter = gson.getAdapter(BuildRegion.class);
+        }
+
+        @Override
+        public void write(JsonWriter out, BuildSummary value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.name("BuildId").value(value.BuildId);
+            out.name("BuildName").value(value.BuildName);
+            dateAdapter.write(out.name("CreationTime"), value.CreationTime);
+            PlayFabJson.writeMap(out.name("Metadata"), value.Metadata, stringAdapter);
+            PlayFabJson.writeList(out.name("RegionConfigurations"), value.RegionConfigurations, buildRegionAdapter);
+            out.endObject();
+        }
+
+        @Override
+        public BuildSummary read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            BuildSummary value = new BuildSummary();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "BuildId": value.BuildId = PlayFabJson.readString(in); break;
+                        case "BuildName": value.BuildName = PlayFabJson.readString(in); break;
+                        case "CreationTime": value.CreationTime = dateAdapter.read(in); break;
+                        case "Metadata": value.Metadata = PlayFabJson.readMap(in, stringAdapter); break;
+                        case "RegionConfigurations": value.RegionConfigurations = PlayFabJson.readList(in, buildRegionAdapter); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class CancelAllMatchmakingTicketsForPlayerRequestAdapter extends TypeAdapter<CancelAllMatchmakingTicketsForPlayerRequest> {
+        private final TypeAdapter<String> stringAdapter;
+        private final TypeAdapter<EntityKey> entityKeyAdapter;
+
+        private CancelAllMatchmakingTicketsForPlayerRequestAdapter(Gson gson) {
+            stringAdapter = gson.getAdapter(String.class);
+            entityKeyAdapter = gson.getAdapter(EntityKey.class);
+        }
+
+        @Override
+        public void write(JsonWriter out, CancelAllMatchmakingTicketsForPlayerRequest value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            PlayFabJson.writeMap(out.name("CustomTags"), value.CustomTags, stringAdapter);
+            entityKeyAdapter.write(out.name("Entity"), value.Entity);
+            out.name("QueueName").value(value.QueueName);
+            out.endObject();
+        }
+
+        @Override
+        public CancelAllMatchmakingTicketsForPlayerRequest read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            CancelAllMatchmakingTicketsForPlayerRequest value = new CancelAllMatchmakingTicketsForPlayerRequest();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "CustomTags": value.CustomTags = PlayFabJson.readMap(in, stringAdapter); break;
+                        case "Entity": value.Entity = entityKeyAdapter.read(in); break;
+                        case "QueueName": value.QueueName = PlayFabJson.readString(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class CancelAllMatchmakingTicketsForPlayerResultAdapter extends TypeAdapter<CancelAllMatchmakingTicketsForPlayerResult> {
+        private CancelAllMatchmakingTicketsForPlayerResultAdapter(Gson gson) {
+        }
+
+        @Override
+        public void write(JsonWriter out, CancelAllMatchmakingTicketsForPlayerResult value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.endObject();
+        }
+
+        @Override
+        public CancelAllMatchmakingTicketsForPlayerResult read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            CancelAllMatchmakingTicketsForPlayerResult value = new CancelAllMatchmakingTicketsForPlayerResult();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class CancelAllServerBackfillTicketsForPlayerRequestAdapter extends TypeAdapter<CancelAllServerBackfillTicketsForPlayerRequest> {
+        private final TypeAdapter<String> stringAdapter;
+        private final TypeAdapter<EntityKey> entityKeyAdapter;
+
+        private CancelAllServerBackfillTicketsForPlayerRequestAdapter(Gson gson) {
+            stringAdapter = gson.getAdapter(String.class);
+            entityKeyAdapter = gson.getAdapter(EntityKey.class);
+        }
+
+        @Override
+        public void write(JsonWriter out, CancelAllServerBackfillTicketsForPlayerRequest value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            PlayFabJson.writeMap(out.name("CustomTags"), value.CustomTags, stringAdapter);
+            entityKeyAdapter.write(out.name("Entity"), value.Entity);
+            out.name("QueueName").value(value.QueueName);
+            out.endObject();
+        }
+
+        @Override
+        public CancelAllServerBackfillTicketsForPlayerRequest read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            CancelAllServerBackfillTicketsForPlayerRequest value = new CancelAllServerBackfillTicketsForPlayerRequest();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "CustomTags": value.CustomTags = PlayFabJson.readMap(in, stringAdapter); break;
+                        case "Entity": value.Entity = entityKeyAdapter.read(in); break;
+                        case "QueueName": value.QueueName = PlayFabJson.readString(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class CancelAllServerBackfillTicketsForPlayerResultAdapter extends TypeAdapter<CancelAllServerBackfillTicketsForPlayerResult> {
+        private CancelAllServerBackfillTicketsForPlayerResultAdapter(Gson gson) {
+        }
+
+        @Override
+        public void write(JsonWriter out, CancelAllServerBackfillTicketsForPlayerResult value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.endObject();
+        }
+
+        @Override
+        public CancelAllServerBackfillTicketsForPlayerResult read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            CancelAllServerBackfillTicketsForPlayerResult value = new CancelAllServerBackfillTicketsForPlayerResult();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class CancelMatchmakingTicketRequestAdapter extends TypeAdapter<CancelMatchmakingTicketRequest> {
+        private final TypeAdapter<String> stringAdapter;
+
+        private CancelMatchmakingTicketRequestAdapter(Gson gson) {
+            stringAdapter = gson.getAdapter(String.class);
+        }
+
+        @Override
+        public void write(JsonWriter out, CancelMatchmakingTicketRequest value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            PlayFabJson.writeMap(out.name("CustomTags"), value.CustomTags, stringAdapter);
+            out.name("QueueName").value(value.QueueName);
+            out.name("TicketId").value(value.TicketId);
+            out.endObject();
+        }
+
+        @Override
+        public CancelMatchmakingTicketRequest read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            CancelMatchmakingTicketRequest value = new CancelMatchmakingTicketRequest();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "CustomTags": value.CustomTags = PlayFabJson.readMap(in, stringAdapter); break;
+                        case "QueueName": value.QueueName = PlayFabJson.readString(in); break;
+                        case "TicketId": value.TicketId = PlayFabJson.readString(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class CancelMatchmakingTicketResultAdapter extends TypeAdapter<CancelMatchmakingTicketResult> {
+        private CancelMatchmakingTicketResultAdapter(Gson gson) {
+        }
+
+        @Override
+        public void write(JsonWriter out, CancelMatchmakingTicketResult value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.endObject();
+        }
+
+        @Override
+        public CancelMatchmakingTicketResult read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            CancelMatchmakingTicketResult value = new CancelMatchmakingTicketResult();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class CancelServerBackfillTicketRequestAdapter extends TypeAdapter<CancelServerBackfillTicketRequest> {
+        private final TypeAdapter<String> stringAdapter;
+
+        private CancelServerBackfillTicketRequestAdapter(Gson gson) {
+            stringAdapter = gson.getAdapter(String.class);
+        }
+
+        @Override
+        public void write(JsonWriter out, CancelServerBackfillTicketRequest value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            PlayFabJson.writeMap(out.name("CustomTags"), value.CustomTags, stringAdapter);
+            out.name("QueueName").value(value.QueueName);
+            out.name("TicketId").value(value.TicketId);
+            out.endObject();
+        }
+
+        @Override
+        public CancelServerBackfillTicketRequest read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            CancelServerBackfillTicketRequest value = new CancelServerBackfillTicketRequest();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "CustomTags": value.CustomTags = PlayFabJson.readMap(in, stringAdapter); break;
+                        case "QueueName": value.QueueName = PlayFabJson.readString(in); break;
+                        case "TicketId": value.TicketId = PlayFabJson.readString(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class CancelServerBackfillTicketResultAdapter extends TypeAdapter<CancelServerBackfillTicketResult> {
+        private CancelServerBackfillTicketResultAdapter(Gson gson) {
+        }
+
+        @Override
+        public void write(JsonWriter out, CancelServerBackfillTicketResult value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.endObject();
+        }
+
+        @Override
+        public CancelServerBackfillTicketResult read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            CancelServerBackfillTicketResult value = new CancelServerBackfillTicketResult();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class CertificateAdapter extends TypeAdapter<Certificate> {
+        private CertificateAdapter(Gson gson) {
+        }
+
+        @Override
+        public void write(JsonWriter out, Certificate value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.name("Base64EncodedValue").value(value.Base64EncodedValue);
+            out.name("Name").value(value.Name);
+            out.name("Password").value(value.Password);
+            out.endObject();
+        }
+
+        @Override
+        public Certificate read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            Certificate value = new Certificate();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "Base64EncodedValue": value.Base64EncodedValue = PlayFabJson.readString(in); break;
+                        case "Name": value.Name = PlayFabJson.readString(in); break;
+                        case "Password": value.Password = PlayFabJson.readString(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class CertificateSummaryAdapter extends TypeAdapter<CertificateSummary> {
+        private CertificateSummaryAdapter(Gson gson) {
+        }
+
+        @Override
+        public void write(JsonWriter out, CertificateSummary value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.name("Name").value(value.Name);
+            out.name("Thumbprint").value(value.Thumbprint);
+            out.endObject();
+        }
+
+        @Override
+        public CertificateSummary read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            CertificateSummary value = new CertificateSummary();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "Name": value.Name = PlayFabJson.readString(in); break;
+                        case "Thumbprint": value.Thumbprint = PlayFabJson.readString(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class ConnectedPlayerAdapter extends TypeAdapter<ConnectedPlayer> {
+        private ConnectedPlayerAdapter(Gson gson) {
+        }
+
+        @Override
+        public void write(JsonWriter out, ConnectedPlayer value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.name("PlayerId").value(value.PlayerId);
+            out.endObject();
+        }
+
+        @Override
+        public ConnectedPlayer read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            ConnectedPlayer value = new ConnectedPlayer();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "PlayerId": value.PlayerId = PlayFabJson.readString(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class ContainerImageReferenceAdapter extends TypeAdapter<ContainerImageReference> {
+        private ContainerImageReferenceAdapter(Gson gson) {
+        }
+
+        @Override
+        public void write(JsonWriter out, ContainerImageReference value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.name("ImageName").value(value.ImageName);
+            out.name("Tag").value(value.Tag);
+            out.endObject();
+        }
+
+        @Override
+        public ContainerImageReference read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            ContainerImageReference value = new ContainerImageReference();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "ImageName": value.ImageName = PlayFabJson.readString(in); break;
+                        case "Tag": value.Tag = PlayFabJson.readString(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class CoreCapacityAdapter extends TypeAdapter<CoreCapacity> {
+        private final TypeAdapter<AzureVmFamily> azureVmFamilyAdapter;
+
+        private CoreCapacityAdapter(Gson gson) {
+            azureVmFamilyAdapter = gson.getAdapter(AzureVmFamily.class);
+        }
+
+        @Override
+        public void write(JsonWriter out, CoreCapacity value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.name("Available").value(value.Available);
+            out.name("Region").value(value.Region);
+            out.name("Total").value(value.Total);
+            azureVmFamilyAdapter.write(out.name("VmFamily"), value.VmFamily);
+            out.endObject();
+        }
+
+        @Override
+        public CoreCapacity read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            CoreCapacity value = new CoreCapacity();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "Available": value.Available = PlayFabJson.readInteger(in); break;
+                        case "Region": value.Region = PlayFabJson.readString(in); break;
+                        case "Total": value.Total = PlayFabJson.readInteger(in); break;
+                        case "VmFamily": value.VmFamily = azureVmFamilyAdapter.read(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class CoreCapacityChangeAdapter extends TypeAdapter<CoreCapacityChange> {
+        private final TypeAdapter<AzureVmFamily> azureVmFamilyAdapter;
+
+        private CoreCapacityChangeAdapter(Gson gson) {
+            azureVmFamilyAdapter = gson.getAdapter(AzureVmFamily.class);
+        }
+
+        @Override
+        public void write(JsonWriter out, CoreCapacityChange value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.name("NewCoreLimit").value(value.NewCoreLimit);
+            out.name("Region").value(value.Region);
+            azureVmFamilyAdapter.write(out.name("VmFamily"), value.VmFamily);
+            out.endObject();
+        }
+
+        @Override
+        public CoreCapacityChange read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            CoreCapacityChange value = new CoreCapacityChange();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "NewCoreLimit": value.NewCoreLimit = PlayFabJson.readInteger(in); break;
+                        case "Region": value.Region = PlayFabJson.readString(in); break;
+                        case "VmFamily": value.VmFamily = azureVmFamilyAdapter.read(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class CreateBuildAliasRequestAdapter extends TypeAdapter<CreateBuildAliasRequest> {
+        private final TypeAdapter<BuildSelectionCriterion> buildSelectionCriterionAdapter;
+        private final TypeAdapter<String> stringAdapter;
+
+        private CreateBuildAliasRequestAdapter(Gson gson) {
+            buildSelectionCriterionAdapter = gson.getAdapter(BuildSelectionCriterion.class);
+            stringAdapter = gson.getAdapter(String.class);
+        }
+
+        @Override
+        public void write(JsonWriter out, CreateBuildAliasRequest value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.name("AliasName").value(value.AliasName);
+            PlayFabJson.writeList(out.name("BuildSelectionCriteria"), value.BuildSelectionCriteria, buildSelectionCriterionAdapter);
+            PlayFabJson.writeMap(out.name("CustomTags"), value.CustomTags, stringAdapter);
+            out.endObject();
+        }
+
+        @Override
+        public CreateBuildAliasRequest read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            CreateBuildAliasRequest value = new CreateBuildAliasRequest();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "AliasName": value.AliasName = PlayFabJson.readString(in); break;
+                        case "BuildSelectionCriteria": value.BuildSelectionCriteria = PlayFabJson.readList(in, buildSelectionCriterionAdapter); break;
+                        case "CustomTags": value.CustomTags = PlayFabJson.readMap(in, stringAdapter); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class CreateBuildWithCustomContainerRequestAdapter extends TypeAdapter<CreateBuildWithCustomContainerRequest> {
+        private final TypeAdapter<ContainerFlavor> containerFlavorAdapter;
+        private final TypeAdapter<ContainerImageReference> containerImageReferenceAdapter;
+        private final TypeAdapter<String> stringAdapter;
+        private final TypeAdapter<AssetReferenceParams> assetReferenceParamsAdapter;
+        private final TypeAdapter<GameCertificateReferenceParams> gameCertificateReferenceParamsAdapter;
+        private final TypeAdapter<LinuxInstrumentationConfiguration> linuxInstrumentationConfigurationAdapter;
+        private final TypeAdapter<Port> portAdapter;
+        private final TypeAdapter<BuildRegionParams> buildRegionParamsAdapter;
+        private final TypeAdapter<AzureVmSize> azureVmSizeAdapter;
+
+        private CreateBuildWithCustomContainerRequestAdapter(Gson gson) {
+            containerFlavorAdapter = gson.getAdapter(ContainerFlavor.class);
+            containerImageReferenceAdapter = gson.getAdapter(ContainerImageReference.class);
+            stringAdapter = gson.getAdapter(String.class);
+            assetReferenceParamsAdapter = gson.getAdapter(AssetReferenceParams.class);
+            gameCertificateReferenceParamsAdapter = gson.getAdapter(GameCertificateReferenceParams.class);
+            linuxInstrumentationConfigurationAdapter = gson.getAdapter(LinuxInstrumentationConfiguration.class);
+            portAdapter = gson.getAdapter(Port.class);
+            buildRegionParamsAdapter = gson.getAdapter(BuildRegionParams.class);
+            azureVmSizeAdapter = gson.getAdapter(AzureVmSize.class);
+        }
+
+        @Override
+        public void write(JsonWriter out, CreateBuildWithCustomContainerRequest value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.name("AreAssetsReadonly").value(value.AreAssetsReadonly);
+            out.name("BuildName").value(value.BuildName);
+            containerFlavorAdapter.write(out.name("ContainerFlavor"), value.ContainerFlavor);
+            containerImageReferenceAdapter.write(out.name("ContainerImageReference"), value.ContainerImageReference);
+            out.name("ContainerRunCommand").value(value.ContainerRunCommand);
+            PlayFabJson.writeMap(out.name("CustomTags"), value.CustomTags, stringAdapter);
+            PlayFabJson.writeList(out.name("GameAssetReferences"), value.GameAssetReferences, assetReferenceParamsAdapter);
+            PlayFabJson.writeList(out.name("GameCertificateReferences"), value.GameCertificateReferences, gameCertificateReferenceParamsAdapter);
+            linuxInstrumentationConfigurationAdapter.write(out.name("LinuxInstrumentationConfiguration"), value.LinuxInstrumentationConfiguration);
+            PlayFabJson.writeMap(out.name("Metadata"), value.Metadata, stringAdapter);
+            out.name("MultiplayerServerCountPerVm").value(value.MultiplayerServerCountPerVm);
+            PlayFabJson.writeList(out.name("Ports"), value.Ports, portAdapter);
+            PlayFabJson.writeList(out.name("RegionConfigurations"), value.RegionConfigurations, buildRegionParamsAdapter);
+            out.name("UseStreamingForAssetDownloads").value(value.UseStreamingForAssetDownloads);
+            azureVmSizeAdapter.write(out.name("VmSize"), value.VmSize);
+            out.endObject();
+        }
+
+        @Override
+        public CreateBuildWithCustomContainerRequest read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            CreateBuildWithCustomContainerRequest value = new CreateBuildWithCustomContainerRequest();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "AreAssetsReadonly": value.AreAssetsReadonly = PlayFabJson.readBoolean(in); break;
+                        case "BuildName": value.BuildName = PlayFabJson.readString(in); break;
+                        case "ContainerFlavor": value.ContainerFlavor = containerFlavorAdapter.read(in); break;
+                        case "ContainerImageReference": value.ContainerImageReference = containerImageReferenceAdapter.read(in); break;
+                        case "ContainerRunCommand": value.ContainerRunCommand = PlayFabJson.readString(in); break;
+                        case "CustomTags": value.CustomTags = PlayFabJson.readMap(in, stringAdapter); break;
+                        case "GameAssetReferences": value.GameAssetReferences = PlayFabJson.readList(in, assetReferenceParamsAdapter); break;
+                        case "GameCertificateReferences": value.GameCertificateReferences = PlayFabJson.readList(in, gameCertificateReferenceParamsAdapter); break;
+                        case "LinuxInstrumentationConfiguration": value.LinuxInstrumentationConfiguration = linuxInstrumentationConfigurationAdapter.read(in); break;
+                        case "Metadata": value.Metadata = PlayFabJson.readMap(in, stringAdapter); break;
+                        case "MultiplayerServerCountPerVm": value.MultiplayerServerCountPerVm = PlayFabJson.readInteger(in); break;
+                        case "Ports": value.Ports = PlayFabJson.readList(in, portAdapter); break;
+                        case "RegionConfigurations": value.RegionConfigurations = PlayFabJson.readList(in, buildRegionParamsAdapter); break;
+                        case "UseStreamingForAssetDownloads": value.UseStreamingForAssetDownloads = PlayFabJson.readBoolean(in); break;
+                        case "VmSize": value.VmSize = azureVmSizeAdapter.read(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class CreateBuildWithCustomContainerResponseAdapter extends TypeAdapter<CreateBuildWithCustomContainerResponse> {
+        private final TypeAdapter<ContainerFlavor> containerFlavorAdapter;
+        private final TypeAdapter<Date> dateAdapter;
+        private final TypeAdapter<ContainerImageReference> containerImageReferenceAdapter;
+        private final TypeAdapter<AssetReference> assetReferenceAdapter;
+        private final TypeAdapter<GameCertificateReference> gameCertificateReferenceAdapter;
+        private final TypeAdapter<LinuxInstrumentationConfiguration> linuxInstrumentationConfigurationAdapter;
+        private final TypeAdapter<String> stringAdapter;
+        private final TypeAdapter<Port> portAdapter;
+        private final TypeAdapter<BuildRegion> buildRegionAdapter;
+        private final TypeAdapter<AzureVmSize> azureVmSizeAdapter;
+
+        private CreateBuildWithCustomContainerResponseAdapter(Gson gson) {
+            containerFlavorAdapter = gson.getAdapter(ContainerFlavor.class);
+            dateAdapter = gson.getAdapter(Date.class);
+            containerImageReferenceAdapter = gson.getAdapter(ContainerImageReference.class);
+            assetReferenceAdapter = gson.getAdapter(AssetReference.class);
+            gameCertificateReferenceAdapter = gson.getAdapter(GameCertificateReference.class);
+            linuxInstrumentationConfigurationAdapter = gson.getAdapter(LinuxInstrumentationConfiguration.class);
+            stringAdapter = gson.getAdapter(String.class);
+            portAdapter = gson.getAdapter(Port.class);
+            buildRegionAdapter = gson.getAdapter(BuildRegion.class);
+            azureVmSizeAdapter = gson.getAdapter(AzureVmSize.class);
+        }
+
+        @Override
+        public void write(JsonWriter out, CreateBuildWithCustomContainerResponse value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.name("AreAssetsReadonly").value(value.AreAssetsReadonly);
+            out.name("BuildId").value(value.BuildId);
+            out.name("BuildName").value(value.BuildName);
+            containerFlavorAdapter.write(out.name("ContainerFlavor"), value.ContainerFlavor);
+            out.name("ContainerRunCommand").value(value.ContainerRunCommand);
+            dateAdapter.write(out.name("CreationTime"), value.CreationTime);
+            containerImageReferenceAdapter.write(out.name("CustomGameContainerImage"), value.CustomGameContainerImage);
+            PlayFabJson.writeList(out.name("GameAssetReferences"), value.GameAssetReferences, assetReferenceAdapter);
+            PlayFabJson.writeList(out.name("GameCertificateReferences"), value.GameCertificateReferences, gameCertificateReferenceAdapter);
+            linuxInstrumentationConfigurationAdapter.write(out.name("LinuxInstrumentationConfiguration"), value.LinuxInstrumentationConfiguration);
+            PlayFabJson.writeMap(out.name("Metadata"), value.Metadata, stringAdapter);
+            out.name("MultiplayerServerCountPerVm").value(value.MultiplayerServerCountPerVm);
+            out.name("OsPlatform").value(value.OsPlatform);
+            PlayFabJson.writeList(out.name("Ports"), value.Ports, portAdapter);
+            PlayFabJson.writeList(out.name("RegionConfigurations"), value.RegionConfigurations, buildRegionAdapter);
+            out.name("ServerType").value(value.ServerType);
+            out.name("UseStreamingForAssetDownloads").value(value.UseStreamingForAssetDownloads);
+            azureVmSizeAdapter.write(out.name("VmSize"), value.VmSize);
+            out.endObject();
+        }
+
+        @Override
+        public CreateBuildWithCustomContainerResponse read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            CreateBuildWithCustomContainerResponse value = new CreateBuildWithCustomContainerResponse();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "AreAssetsReadonly": value.AreAssetsReadonly = PlayFabJson.readBoolean(in); break;
+                        case "BuildId": value.BuildId = PlayFabJson.readString(in); break;
+                        case "BuildName": value.BuildName = PlayFabJson.readString(in); break;
+                        case "ContainerFlavor": value.ContainerFlavor = containerFlavorAdapter.read(in); break;
+                        case "ContainerRunCommand": value.ContainerRunCommand = PlayFabJson.readString(in); break;
+                        case "CreationTime": value.CreationTime = dateAdapter.read(in); break;
+                        case "CustomGameContainerImage": value.CustomGameContainerImage = containerImageReferenceAdapter.read(in); break;
+                        case "GameAssetReferences": value.GameAssetReferences = PlayFabJson.readList(in, assetReferenceAdapter); break;
+                        case "GameCertificateReferences": value.GameCertificateReferences = PlayFabJson.readList(in, gameCertificateReferenceAdapter); break;
+                        case "LinuxInstrumentationConfiguration": value.LinuxInstrumentationConfiguration = linuxInstrumentationConfigurationAdapter.read(in); break;
+                        case "Metadata": value.Metadata = PlayFabJson.readMap(in, stringAdapter); break;
+                        case "MultiplayerServerCountPerVm": value.MultiplayerServerCountPerVm = PlayFabJson.readInteger(in); break;
+                        case "OsPlatform": value.OsPlatform = PlayFabJson.readString(in); break;
+                        case "Ports": value.Ports = PlayFabJson.readList(in, portAdapter); break;
+                        case "RegionConfigurations": value.RegionConfigurations = PlayFabJson.readList(in, buildRegionAdapter); break;
+                        case "ServerType": value.ServerType = PlayFabJson.readString(in); break;
+                        case "UseStreamingForAssetDownloads": value.UseStreamingForAssetDownloads = PlayFabJson.readBoolean(in); break;
+                        case "VmSize": value.VmSize = azureVmSizeAdapter.read(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class CreateBuildWithManagedContainerRequestAdapter extends TypeAdapter<CreateBuildWithManagedContainerRequest> {
+        private final TypeAdapter<ContainerFlavor> containerFlavorAdapter;
+        private final TypeAdapter<String> stringAdapter;
+        private final TypeAdapter<AssetReferenceParams> assetReferenceParamsAdapter;
+        private final TypeAdapter<GameCertificateReferenceParams> gameCertificateReferenceParamsAdapter;
+        private final TypeAdapter<InstrumentationConfiguration> instrumentationConfigurationAdapter;
+        private final TypeAdapter<Port> portAdapter;
+        private final TypeAdapter<BuildRegionParams> buildRegionParamsAdapter;
+        private final TypeAdapter<AzureVmSize> azureVmSizeAdapter;
+
+        private CreateBuildWithManagedContainerRequestAdapter(Gson gson) {
+            containerFlavorAdapter = gson.getAdapter(ContainerFlavor.class);
+            stringAdapter = gson.getAdapter(String.class);
+            assetReferenceParamsAdapter = gson.getAdapter(AssetReferenceParams.class);
+            gameCertificateReferenceParamsAdapter = gson.getAdapter(GameCertificateReferenceParams.class);
+            instrumentationConfigurationAdapter = gson.getAdapter(InstrumentationConfiguration.class);
+            portAdapter = gson.getAdapter(Port.class);
+            buildRegionParamsAdapter = gson.getAdapter(BuildRegionParams.class);
+            azureVmSizeAdapter = gson.getAdapter(AzureVmSize.class);
+        }
+
+        @Override
+        public void write(JsonWriter out, CreateBuildWithManagedContainerRequest value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.name("AreAssetsReadonly").value(value.AreAssetsReadonly);
+            out.name("BuildName").value(value.BuildName);
+            containerFlavorAdapter.write(out.name("ContainerFlavor"), value.ContainerFlavor);
+            PlayFabJson.writeMap(out.name("CustomTags"), value.CustomTags, stringAdapter);
+            PlayFabJson.writeList(out.name("GameAssetReferences"), value.GameAssetReferences, assetReferenceParamsAdapter);
+            PlayFabJson.writeList(out.name("GameCertificateReferences"), value.GameCertificateReferences, gameCertificateReferenceParamsAdapter);
+            out.name("GameWorkingDirectory").value(value.GameWorkingDirectory);
+            instrumentationConfigurationAdapter.write(out.name("InstrumentationConfiguration"), value.InstrumentationConfiguration);
+            PlayFabJson.writeMap(out.name("Metadata"), value.Metadata, stringAdapter);
+            out.name("MultiplayerServerCountPerVm").value(value.MultiplayerServerCountPerVm);
+            PlayFabJson.writeList(out.name("Ports"), value.Ports, portAdapter);
+            PlayFabJson.writeList(out.name("RegionConfigurations"), value.RegionConfigurations, buildRegionParamsAdapter);
+            out.name("StartMultiplayerServerCommand").value(value.StartMultiplayerServerCommand);
+            out.name("UseStreamingForAssetDownloads").value(value.UseStreamingForAssetDownloads);
+            azureVmSizeAdapter.write(out.name("VmSize"), value.VmSize);
+            out.endObject();
+        }
+
+        @Override
+        public CreateBuildWithManagedContainerRequest read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            CreateBuildWithManagedContainerRequest value = new CreateBuildWithManagedContainerRequest();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "AreAssetsReadonly": value.AreAssetsReadonly = PlayFabJson.readBoolean(in); break;
+                        case "BuildName": value.BuildName = PlayFabJson.readString(in); break;
+                        case "ContainerFlavor": value.ContainerFlavor = containerFlavorAdapter.read(in); break;
+                        case "CustomTags": value.CustomTags = PlayFabJson.readMap(in, stringAdapter); break;
+                        case "GameAssetReferences": value.GameAssetReferences = PlayFabJson.readList(in, assetReferenceParamsAdapter); break;
+                        case "GameCertificateReferences": value.GameCertificateReferences = PlayFabJson.readList(in, gameCertificateReferenceParamsAdapter); break;
+                        case "GameWorkingDirectory": value.GameWorkingDirectory = PlayFabJson.readString(in); break;
+                        case "InstrumentationConfiguration": value.InstrumentationConfiguration = instrumentationConfigurationAdapter.read(in); break;
+                        case "Metadata": value.Metadata = PlayFabJson.readMap(in, stringAdapter); break;
+                        case "MultiplayerServerCountPerVm": value.MultiplayerServerCountPerVm = PlayFabJson.readInteger(in); break;
+                        case "Ports": value.Ports = PlayFabJson.readList(in, portAdapter); break;
+                        case "RegionConfigurations": value.RegionConfigurations = PlayFabJson.readList(in, buildRegionParamsAdapter); break;
+                        case "StartMultiplayerServerCommand": value.StartMultiplayerServerCommand = PlayFabJson.readString(in); break;
+                        case "UseStreamingForAssetDownloads": value.UseStreamingForAssetDownloads = PlayFabJson.readBoolean(in); break;
+                        case "VmSize": value.VmSize = azureVmSizeAdapter.read(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class CreateBuildWithManagedContainerResponseAdapter extends TypeAdapter<CreateBuildWithManagedContainerResponse> {
+        private final TypeAdapter<ContainerFlavor> containerFlavorAdapter;
+        private final TypeAdapter<Date> dateAdapter;
+        private final TypeAdapter<AssetReference> assetReferenceAdapter;
+        private final TypeAdapter<GameCertificateReference> gameCertificateReferenceAdapter;
+        private final TypeAdapter<InstrumentationConfiguration> instrumentationConfigurationAdapter;
+        private final TypeAdapter<String> stringAdapter;
+        private final TypeAdapter<Port> portAdapter;
+        private final TypeAdapter<BuildRegion> buildRegionAdapter;
+        private final TypeAdapter<AzureVmSize> azureVmSizeAdapter;
+
+        private CreateBuildWithManagedContainerResponseAdapter(Gson gson) {
+            containerFlavorAdapter = gson.getAdapter(ContainerFlavor.class);
+            dateAdapter = gson.getAdapter(Date.class);
+            assetReferenceAdapter = gson.getAdapter(AssetReference.class);
+            gameCertificateReferenceAdapter = gson.getAdapter(GameCertificateReference.class);
+            instrumentationConfigurationAdapter = gson.getAdapter(InstrumentationConfiguration.class);
+            stringAdapter = gson.getAdapter(String.class);
+            portAdapter = gson.getAdapter(Port.class);
+            buildRegionAdapter = gson.getAdapter(BuildRegion.class);
+            azureVmSizeAdapter = gson.getAdapter(AzureVmSize.class);
+        }
+
+        @Override
+        public void write(JsonWriter out, CreateBuildWithManagedContainerResponse value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.name("AreAssetsReadonly").value(value.AreAssetsReadonly);
+            out.name("BuildId").value(value.BuildId);
+            out.name("BuildName").value(value.BuildName);
+            containerFlavorAdapter.write(out.name("ContainerFlavor"), value.ContainerFlavor);
+            dateAdapter.write(out.name("CreationTime"), value.CreationTime);
+            PlayFabJson.writeList(out.name("GameAssetReferences"), value.GameAssetReferences, assetReferenceAdapter);
+            PlayFabJson.writeList(out.name("GameCertificateReferences"), value.GameCertificateReferences, gameCertificateReferenceAdapter);
+            out.name("GameWorkingDirectory").value(value.GameWorkingDirectory);
+            instrumentationConfigurationAdapter.write(out.name("InstrumentationConfiguration"), value.InstrumentationConfiguration);
+            PlayFabJson.writeMap(out.name("Metadata"), value.Metadata, stringAdapter);
+            out.name("MultiplayerServerCountPerVm").value(value.MultiplayerServerCountPerVm);
+            out.name("OsPlatform").value(value.OsPlatform);
+            PlayFabJson.writeList(out.name("Ports"), value.Ports, portAdapter);
+            PlayFabJson.writeList(out.name("RegionConfigurations"), value.RegionConfigurations, buildRegionAdapter);
+            out.name("ServerType").value(value.ServerType);
+            out.name("StartMultiplayerServerCommand").value(value.StartMultiplayerServerCommand);
+            out.name("UseStreamingForAssetDownloads").value(value.UseStreamingForAssetDownloads);
+            azureVmSizeAdapter.write(out.name("VmSize"), value.VmSize);
+            out.endObject();
+        }
+
+        @Override
+        public CreateBuildWithManagedContainerResponse read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            CreateBuildWithManagedContainerResponse value = new CreateBuildWithManagedContainerResponse();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "AreAssetsReadonly": value.AreAssetsReadonly = PlayFabJson.readBoolean(in); break;
+                        case "BuildId": value.BuildId = PlayFabJson.readString(in); break;
+                        case "BuildName": value.BuildName = PlayFabJson.readString(in); break;
+                        case "ContainerFlavor": value.ContainerFlavor = containerFlavorAdapter.read(in); break;
+                        case "CreationTime": value.CreationTime = dateAdapter.read(in); break;
+                        case "GameAssetReferences": value.GameAssetReferences = PlayFabJson.readList(in, assetReferenceAdapter); break;
+                        case "GameCertificateReferences": value.GameCertificateReferences = PlayFabJson.readList(in, gameCertificateReferenceAdapter); break;
+                        case "GameWorkingDirectory": value.GameWorkingDirectory = PlayFabJson.readString(in); break;
+                        case "InstrumentationConfiguration": value.InstrumentationConfiguration = instrumentationConfigurationAdapter.read(in); break;
+                        case "Metadata": value.Metadata = PlayFabJson.readMap(in, stringAdapter); break;
+                        case "MultiplayerServerCountPerVm": value.MultiplayerServerCountPerVm = PlayFabJson.readInteger(in); break;
+                        case "OsPlatform": value.OsPlatform = PlayFabJson.readString(in); break;
+                        case "Ports": value.Ports = PlayFabJson.readList(in, portAdapter); break;
+                        case "RegionConfigurations": value.RegionConfigurations = PlayFabJson.readList(in, buildRegionAdapter); break;
+                        case "ServerType": value.ServerType = PlayFabJson.readString(in); break;
+                        case "StartMultiplayerServerCommand": value.StartMultiplayerServerCommand = PlayFabJson.readString(in); break;
+                        case "UseStreamingForAssetDownloads": value.UseStreamingForAssetDownloads = PlayFabJson.readBoolean(in); break;
+                        case "VmSize": value.VmSize = azureVmSizeAdapter.read(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class CreateBuildWithProcessBasedServerRequestAdapter extends TypeAdapter<CreateBuildWithProcessBasedServerRequest> {
+        private final TypeAdapter<String> stringAdapter;
+        private final TypeAdapter<AssetReferenceParams> assetReferenceParamsAdapter;
+        private final TypeAdapter<GameCertificateReferenceParams> gameCertificateReferenceParamsAdapter;
+        private final TypeAdapter<InstrumentationConfiguration> instrumentationConfigurationAdapter;
+        private final TypeAdapter<Port> portAdapter;
+        private final TypeAdapter<BuildRegionParams> buildRegionParamsAdapter;
+        private final TypeAdapter<AzureVmSize> azureVmSizeAdapter;
+
+        private CreateBuildWithProcessBasedServerRequestAdapter(Gson gson) {
+            stringAdapter = gson.getAdapter(String.class);
+            assetReferenceParamsAdapter = gson.getAdapter(AssetReferenceParams.class);
+            gameCertificateReferenceParamsAdapter = gson.getAdapter(GameCertificateReferenceParams.class);
+            instrumentationConfigurationAdapter = gson.getAdapter(InstrumentationConfiguration.class);
+            portAdapter = gson.getAdapter(Port.class);
+            buildRegionParamsAdapter = gson.getAdapter(BuildRegionParams.class);
+            azureVmSizeAdapter = gson.getAdapter(AzureVmSize.class);
+        }
+
+        @Override
+        public void write(JsonWriter out, CreateBuildWithProcessBasedServerRequest value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.name("AreAssetsReadonly").value(value.AreAssetsReadonly);
+            out.name("BuildName").value(value.BuildName);
+            PlayFabJson.writeMap(out.name("CustomTags"), value.CustomTags, stringAdapter);
+            PlayFabJson.writeList(out.name("GameAssetReferences"), value.GameAssetReferences, assetReferenceParamsAdapter);
+            PlayFabJson.writeList(out.name("GameCertificateReferences"), value.GameCertificateReferences, gameCertificateReferenceParamsAdapter);
+            out.name("GameWorkingDirectory").value(value.GameWorkingDirectory);
+            instrumentationConfigurationAdapter.write(out.name("InstrumentationConfiguration"), value.InstrumentationConfiguration);
+            out.name("IsOSPreview").value(value.IsOSPreview);
+            PlayFabJson.writeMap(out.name("Metadata"), value.Metadata, stringAdapter);
+            out.name("MultiplayerServerCountPerVm").value(value.MultiplayerServerCountPerVm);
+            out.name("OsPlatform").value(value.OsPlatform);
+            PlayFabJson.writeList(out.name("Ports"), value.Ports, portAdapter);
+            PlayFabJson.writeList(out.name("RegionConfigurations"), value.RegionConfigurations, buildRegionParamsAdapter);
+            out.name("StartMultiplayerServerCommand").value(value.StartMultiplayerServerCommand);
+            out.name("UseStreamingForAssetDownloads").value(value.UseStreamingForAssetDownloads);
+            azureVmSizeAdapter.write(out.name("VmSize"), value.VmSize);
+            out.endObject();
+        }
+
+        @Override
+        public CreateBuildWithProcessBasedServerRequest read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            CreateBuildWithProcessBasedServerRequest value = new CreateBuildWithProcessBasedServerRequest();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "AreAssetsReadonly": value.AreAssetsReadonly = PlayFabJson.readBoolean(in); break;
+                        case "BuildName": value.BuildName = PlayFabJson.readString(in); break;
+                        case "CustomTags": value.CustomTags = PlayFabJson.readMap(in, stringAdapter); break;
+                        case "GameAssetReferences": value.GameAssetReferences = PlayFabJson.readList(in, assetReferenceParamsAdapter); break;
+                        case "GameCertificateReferences": value.GameCertificateReferences = PlayFabJson.readList(in, gameCertificateReferenceParamsAdapter); break;
+                        case "GameWorkingDirectory": value.GameWorkingDirectory = PlayFabJson.readString(in); break;
+                        case "InstrumentationConfiguration": value.InstrumentationConfiguration = instrumentationConfigurationAdapter.read(in); break;
+                        case "IsOSPreview": value.IsOSPreview = PlayFabJson.readBoolean(in); break;
+                        case "Metadata": value.Metadata = PlayFabJson.readMap(in, stringAdapter); break;
+                        case "MultiplayerServerCountPerVm": value.MultiplayerServerCountPerVm = PlayFabJson.readInteger(in); break;
+                        case "OsPlatform": value.OsPlatform = PlayFabJson.readString(in); break;
+                        case "Ports": value.Ports = PlayFabJson.readList(in, portAdapter); break;
+                        case "RegionConfigurations": value.RegionConfigurations = PlayFabJson.readList(in, buildRegionParamsAdapter); break;
+                        case "StartMultiplayerServerCommand": value.StartMultiplayerServerCommand = PlayFabJson.readString(in); break;
+                        case "UseStreamingForAssetDownloads": value.UseStreamingForAssetDownloads = PlayFabJson.readBoolean(in); break;
+                        case "VmSize": value.VmSize = azureVmSizeAdapter.read(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class CreateBuildWithProcessBasedServerResponseAdapter extends TypeAdapter<CreateBuildWithProcessBasedServerResponse> {
+        private final TypeAdapter<ContainerFlavor> containerFlavorAdapter;
+        private final TypeAdapter<Date> dateAdapter;
+        private final TypeAdapter<AssetReference> assetReferenceAdapter;
+        private final TypeAdapter<GameCertificateReference> gameCertificateReferenceAdapter;
+        private final TypeAdapter<InstrumentationConfiguration> instrumentationConfigurationAdapter;
+        private final TypeAdapter<String> stringAdapter;
+        private final TypeAdapter<Port> portAdapter;
+        private final TypeAdapter<BuildRegion> buildRegionAdapter;
+        private final TypeAdapter<AzureVmSize> azureVmSizeAdapter;
+
+        private CreateBuildWithProcessBasedServerResponseAdapter(Gson gson) {
+            containerFlavorAdapter = gson.getAdapter(ContainerFlavor.class);
+            dateAdapter = gson.getAdapter(Date.class);
+            assetReferenceAdapter = gson.getAdapter(AssetReference.class);
+            gameCertificateReferenceAdapter = gson.getAdapter(GameCertificateReference.class);
+            instrumentationConfigurationAdapter = gson.getAdapter(InstrumentationConfiguration.class);
+            stringAdapter = gson.getAdapter(String.class);
+            portAdapter = gson.getAdapter(Port.class);
+            buildRegionAdapter = gson.getAdapter(BuildRegion.class);
+            azureVmSizeAdapter = gson.getAdapter(AzureVmSize.class);
+        }
+
+        @Override
+        public void write(JsonWriter out, CreateBuildWithProcessBasedServerResponse value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.name("AreAssetsReadonly").value(value.AreAssetsReadonly);
+            out.name("BuildId").value(value.BuildId);
+            out.name("BuildName").value(value.BuildName);
+            containerFlavorAdapter.write(out.name("ContainerFlavor"), value.ContainerFlavor);
+            dateAdapter.write(out.name("CreationTime"), value.CreationTime);
+            PlayFabJson.writeList(out.name("GameAssetReferences"), value.GameAssetReferences, assetReferenceAdapter);
+            PlayFabJson.writeList(out.name("GameCertificateReferences"), value.GameCertificateReferences, gameCertificateReferenceAdapter);
+            out.name("GameWorkingDirectory").value(value.GameWorkingDirectory);
+            instrumentationConfigurationAdapter.write(out.name("InstrumentationConfiguration"), value.InstrumentationConfiguration);
+            out.name("IsOSPreview").value(value.IsOSPreview);
+            PlayFabJson.writeMap(out.name("Metadata"), value.Metadata, stringAdapter);
+            out.name("MultiplayerServerCountPerVm").value(value.MultiplayerServerCountPerVm);
+            out.name("OsPlatform").value(value.OsPlatform);
+            PlayFabJson.writeList(out.name("Ports"), value.Ports, portAdapter);
+            PlayFabJson.writeList(out.name("RegionConfigurations"), value.RegionConfigurations, buildRegionAdapter);
+            out.name("ServerType").value(value.ServerType);
+            out.name("StartMultiplayerServerCommand").value(value.StartMultiplayerServerCommand);
+            out.name("UseStreamingForAssetDownloads").value(value.UseStreamingForAssetDownloads);
+            azureVmSizeAdapter.write(out.name("VmSize"), value.VmSize);
+            out.endObject();
+        }
+
+        @Override
+        public CreateBuildWithProcessBasedServerResponse read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            CreateBuildWithProcessBasedServerResponse value = new CreateBuildWithProcessBasedServerResponse();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "AreAssetsReadonly": value.AreAssetsReadonly = PlayFabJson.readBoolean(in); break;
+                        case "BuildId": value.BuildId = PlayFabJson.readString(in); break;
+                        case "BuildName": value.BuildName = PlayFabJson.readString(in); break;
+                        case "ContainerFlavor": value.ContainerFlavor = containerFlavorAdapter.read(in); break;
+                        case "CreationTime": value.CreationTime = dateAdapter.read(in); break;
+                        case "GameAssetReferences": value.GameAssetReferences = PlayFabJson.readList(in, assetReferenceAdapter); break;
+                        case "GameCertificateReferences": value.GameCertificateReferences = PlayFabJson.readList(in, gameCertificateReferenceAdapter); break;
+                        case "GameWorkingDirectory": value.GameWorkingDirectory = PlayFabJson.readString(in); break;
+                        case "InstrumentationConfiguration": value.InstrumentationConfiguration = instrumentationConfigurationAdapter.read(in); break;
+                        case "IsOSPreview": value.IsOSPreview = PlayFabJson.readBoolean(in); break;
+                        case "Metadata": value.Metadata = PlayFabJson.readMap(in, stringAdapter); break;
+                        case "MultiplayerServerCountPerVm": value.MultiplayerServerCountPerVm = PlayFabJson.readInteger(in); break;
+                        case "OsPlatform": value.OsPlatform = PlayFabJson.readString(in); break;
+                        case "Ports": value.Ports = PlayFabJson.readList(in, portAdapter); break;
+                        case "RegionConfigurations": value.RegionConfigurations = PlayFabJson.readList(in, buildRegionAdapter); break;
+                        case "ServerType": value.ServerType = PlayFabJson.readString(in); break;
+                        case "StartMultiplayerServerCommand": value.StartMultiplayerServerCommand = PlayFabJson.readString(in); break;
+                        case "UseStreamingForAssetDownloads": value.UseStreamingForAssetDownloads = PlayFabJson.readBoolean(in); break;
+                        case "VmSize": value.VmSize = azureVmSizeAdapter.read(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class CreateMatchmakingTicketRequestAdapter extends TypeAdapter<CreateMatchmakingTicketRequest> {
+        private final TypeAdapter<MatchmakingPlayer> matchmakingPlayerAdapter;
+        private final TypeAdapter<String> stringAdapter;
+        private final TypeAdapter<EntityKey> entityKeyAdapter;
+
+        private CreateMatchmakingTicketRequestAdapter(Gson gson) {
+            matchmakingPlayerAdapter = gson.getAdapter(MatchmakingPlayer.class);
+            stringAdapter = gson.getAdapter(String.class);
+            entityKeyAdapter = gson.getAdapter(EntityKey.class);
+        }
+
+        @Override
+        public void write(JsonWriter out, CreateMatchmakingTicketRequest value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            matchmakingPlayerAdapter.write(out.name("Creator"), value.Creator);
+            PlayFabJson.writeMap(out.name("CustomTags"), value.CustomTags, stringAdapter);
+            out.name("GiveUpAfterSeconds").value(value.GiveUpAfterSeconds);
+            PlayFabJson.writeList(out.name("MembersToMatchWith"), value.MembersToMatchWith, entityKeyAdapter);
+            out.name("QueueName").value(value.QueueName);
+            out.endObject();
+        }
+
+        @Override
+        public CreateMatchmakingTicketRequest read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            CreateMatchmakingTicketRequest value = new CreateMatchmakingTicketRequest();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "Creator": value.Creator = matchmakingPlayerAdapter.read(in); break;
+                        case "CustomTags": value.CustomTags = PlayFabJson.readMap(in, stringAdapter); break;
+                        case "GiveUpAfterSeconds": value.GiveUpAfterSeconds = PlayFabJson.readInteger(in); break;
+                        case "MembersToMatchWith": value.MembersToMatchWith = PlayFabJson.readList(in, entityKeyAdapter); break;
+                        case "QueueName": value.QueueName = PlayFabJson.readString(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class CreateMatchmakingTicketResultAdapter extends TypeAdapter<CreateMatchmakingTicketResult> {
+        private CreateMatchmakingTicketResultAdapter(Gson gson) {
+        }
+
+        @Override
+        public void write(JsonWriter out, CreateMatchmakingTicketResult value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.name("TicketId").value(value.TicketId);
+            out.endObject();
+        }
+
+        @Override
+        public CreateMatchmakingTicketResult read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            CreateMatchmakingTicketResult value = new CreateMatchmakingTicketResult();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "TicketId": value.TicketId = PlayFabJson.readString(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class CreateRemoteUserRequestAdapter extends TypeAdapter<CreateRemoteUserRequest> {
+        private final TypeAdapter<String> stringAdapter;
+        private final TypeAdapter<Date> dateAdapter;
+
+        private CreateRemoteUserRequestAdapter(Gson gson) {
+            stringAdapter = gson.getAdapter(String.class);
+            dateAdapter = gson.getAdapter(Date.class);
+        }
+
+        @Override
+        public void write(JsonWriter out, CreateRemoteUserRequest value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.name("BuildId").value(value.BuildId);
+            PlayFabJson.writeMap(out.name("CustomTags"), value.CustomTags, stringAdapter);
+            dateAdapter.write(out.name("ExpirationTime"), value.ExpirationTime);
+            out.name("Region").value(value.Region);
+            out.name("Username").value(value.Username);
+            out.name("VmId").value(value.VmId);
+            out.endObject();
+        }
+
+        @Override
+        public CreateRemoteUserRequest read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            CreateRemoteUserRequest value = new CreateRemoteUserRequest();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "BuildId": value.BuildId = PlayFabJson.readString(in); break;
+                        case "CustomTags": value.CustomTags = PlayFabJson.readMap(in, stringAdapter); break;
+                        case "ExpirationTime": value.ExpirationTime = dateAdapter.read(in); break;
+                        case "Region": value.Region = PlayFabJson.readString(in); break;
+                        case "Username": value.Username = PlayFabJson.readString(in); break;
+                        case "VmId": value.VmId = PlayFabJson.readString(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class CreateRemoteUserResponseAdapter extends TypeAdapter<CreateRemoteUserResponse> {
+        private final TypeAdapter<Date> dateAdapter;
+
+        private CreateRemoteUserResponseAdapter(Gson gson) {
+            dateAdapter = gson.getAdapter(Date.class);
+        }
+
+        @Override
+        public void write(JsonWriter out, CreateRemoteUserResponse value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            dateAdapter.write(out.name("ExpirationTime"), value.ExpirationTime);
+            out.name("Password").value(value.Password);
+            out.name("Username").value(value.Username);
+            out.endObject();
+        }
+
+        @Override
+        public CreateRemoteUserResponse read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            CreateRemoteUserResponse value = new CreateRemoteUserResponse();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "ExpirationTime": value.ExpirationTime = dateAdapter.read(in); break;
+                        case "Password": value.Password = PlayFabJson.readString(in); break;
+                        case "Username": value.Username = PlayFabJson.readString(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class CreateServerBackfillTicketRequestAdapter extends TypeAdapter<CreateServerBackfillTicketRequest> {
+        private final TypeAdapter<String> stringAdapter;
+        private final TypeAdapter<MatchmakingPlayerWithTeamAssignment> matchmakingPlayerWithTeamAssignmentAdapter;
+        private final TypeAdapter<ServerDetails> serverDetailsAdapter;
+
+        private CreateServerBackfillTicketRequestAdapter(Gson gson) {
+            stringAdapter = gson.getAdapter(String.class);
+            matchmakingPlayerWithTeamAssignmentAdapter = gson.getAdapter(MatchmakingPlayerWithTeamAssignment.class);
+            serverDetailsAdapter = gson.getAdapter(ServerDetails.class);
+        }
+
+        @Override
+        public void write(JsonWriter out, CreateServerBackfillTicketRequest value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            PlayFabJson.writeMap(out.name("CustomTags"), value.CustomTags, stringAdapter);
+            out.name("GiveUpAfterSeconds").value(value.GiveUpAfterSeconds);
+            PlayFabJson.writeList(out.name("Members"), value.Members, matchmakingPlayerWithTeamAssignmentAdapter);
+            out.name("QueueName").value(value.QueueName);
+            serverDetailsAdapter.write(out.name("ServerDetails"), value.ServerDetails);
+            out.endObject();
+        }
+
+        @Override
+        public CreateServerBackfillTicketRequest read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            CreateServerBackfillTicketRequest value = new CreateServerBackfillTicketRequest();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "CustomTags": value.CustomTags = PlayFabJson.readMap(in, stringAdapter); break;
+                        case "GiveUpAfterSeconds": value.GiveUpAfterSeconds = PlayFabJson.readInteger(in); break;
+                        case "Members": value.Members = PlayFabJson.readList(in, matchmakingPlayerWithTeamAssignmentAdapter); break;
+                        case "QueueName": value.QueueName = PlayFabJson.readString(in); break;
+                        case "ServerDetails": value.ServerDetails = serverDetailsAdapter.read(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class CreateServerBackfillTicketResultAdapter extends TypeAdapter<CreateServerBackfillTicketResult> {
+        private CreateServerBackfillTicketResultAdapter(Gson gson) {
+        }
+
+        @Override
+        public void write(JsonWriter out, CreateServerBackfillTicketResult value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.name("TicketId").value(value.TicketId);
+            out.endObject();
+        }
+
+        @Override
+        public CreateServerBackfillTicketResult read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            CreateServerBackfillTicketResult value = new CreateServerBackfillTicketResult();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "TicketId": value.TicketId = PlayFabJson.readString(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class CreateServerMatchmakingTicketRequestAdapter extends TypeAdapter<CreateServerMatchmakingTicketRequest> {
+        private final TypeAdapter<String> stringAdapter;
+        private final TypeAdapter<MatchmakingPlayer> matchmakingPlayerAdapter;
+
+        private CreateServerMatchmakingTicketRequestAdapter(Gson gson) {
+            stringAdapter = gson.getAdapter(String.class);
+            matchmakingPlayerAdapter = gson.getAdapter(MatchmakingPlayer.class);
+        }
+
+        @Override
+        public void write(JsonWriter out, CreateServerMatchmakingTicketRequest value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            PlayFabJson.writeMap(out.name("CustomTags"), value.CustomTags, stringAdapter);
+            out.name("GiveUpAfterSeconds").value(value.GiveUpAfterSeconds);
+            PlayFabJson.writeList(out.name("Members"), value.Members, matchmakingPlayerAdapter);
+            out.name("QueueName").value(value.QueueName);
+            out.endObject();
+        }
+
+        @Override
+        public CreateServerMatchmakingTicketRequest read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            CreateServerMatchmakingTicketRequest value = new CreateServerMatchmakingTicketRequest();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "CustomTags": value.CustomTags = PlayFabJson.readMap(in, stringAdapter); break;
+                        case "GiveUpAfterSeconds": value.GiveUpAfterSeconds = PlayFabJson.readInteger(in); break;
+                        case "Members": value.Members = PlayFabJson.readList(in, matchmakingPlayerAdapter); break;
+                        case "QueueName": value.QueueName = PlayFabJson.readString(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class CreateTitleMultiplayerServersQuotaChangeRequestAdapter extends TypeAdapter<CreateTitleMultiplayerServersQuotaChangeRequest> {
+        private final TypeAdapter<CoreCapacityChange> coreCapacityChangeAdapter;
+        private final TypeAdapter<String> stringAdapter;
+        private final TypeAdapter<Date> dateAdapter;
+
+        private CreateTitleMultiplayerServersQuotaChangeRequestAdapter(Gson gson) {
+            coreCapacityChangeAdapter = gson.getAdapter(CoreCapacityChange.class);
+            stringAdapter = gson.getAdapter(String.class);
+            dateAdapter = gson.getAdapter(Date.class);
+        }
+
+        @Override
+        public void write(JsonWriter out, CreateTitleMultiplayerServersQuotaChangeRequest value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.name("ChangeDescription").value(value.ChangeDescription);
+            PlayFabJson.writeList(out.name("Changes"), value.Changes, coreCapacityChangeAdapter);
+            out.name("ContactEmail").value(value.ContactEmail);
+            PlayFabJson.writeMap(out.name("CustomTags"), value.CustomTags, stringAdapter);
+            out.name("Notes").value(value.Notes);
+            dateAdapter.write(out.name("StartDate"), value.StartDate);
+            out.endObject();
+        }
+
+        @Override
+        public CreateTitleMultiplayerServersQuotaChangeRequest read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            CreateTitleMultiplayerServersQuotaChangeRequest value = new CreateTitleMultiplayerServersQuotaChangeRequest();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "ChangeDescription": value.ChangeDescription = PlayFabJson.readString(in); break;
+                        case "Changes": value.Changes = PlayFabJson.readList(in, coreCapacityChangeAdapter); break;
+                        case "ContactEmail": value.ContactEmail = PlayFabJson.readString(in); break;
+                        case "CustomTags": value.CustomTags = PlayFabJson.readMap(in, stringAdapter); break;
+                        case "Notes": value.Notes = PlayFabJson.readString(in); break;
+                        case "StartDate": value.StartDate = dateAdapter.read(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class CreateTitleMultiplayerServersQuotaChangeResponseAdapter extends TypeAdapter<CreateTitleMultiplayerServersQuotaChangeResponse> {
+        private CreateTitleMultiplayerServersQuotaChangeResponseAdapter(Gson gson) {
+        }
+
+        @Override
+        public void write(JsonWriter out, CreateTitleMultiplayerServersQuotaChangeResponse value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.name("RequestId").value(value.RequestId);
+            out.name("WasApproved").value(value.WasApproved);
+            out.endObject();
+        }
+
+        @Override
+        public CreateTitleMultiplayerServersQuotaChangeResponse read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            CreateTitleMultiplayerServersQuotaChangeResponse value = new CreateTitleMultiplayerServersQuotaChangeResponse();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "RequestId": value.RequestId = PlayFabJson.readString(in); break;
+                        case "WasApproved": value.WasApproved = PlayFabJson.readBoolean(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class CurrentServerStatsAdapter extends TypeAdapter<CurrentServerStats> {
+        private CurrentServerStatsAdapter(Gson gson) {
+        }
+
+        @Override
+        public void write(JsonWriter out, CurrentServerStats value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.name("Active").value(value.Active);
+            out.name("Propping").value(value.Propping);
+            out.name("StandingBy").value(value.StandingBy);
+            out.name("Total").value(value.Total);
+            out.endObject();
+        }
+
+        @Override
+        public CurrentServerStats read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            CurrentServerStats value = new CurrentServerStats();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "Active": value.Active = PlayFabJson.readInteger(in); break;
+                        case "Propping": value.Propping = PlayFabJson.readInteger(in); break;
+                        case "StandingBy": value.StandingBy = PlayFabJson.readInteger(in); break;
+                        case "Total": value.Total = PlayFabJson.readInteger(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class DeleteAssetRequestAdapter extends TypeAdapter<DeleteAssetRequest> {
+        private final TypeAdapter<String> stringAdapter;
+
+        private DeleteAssetRequestAdapter(Gson gson) {
+            stringAdapter = gson.getAdapter(String.class);
+        }
+
+        @Override
+        public void write(JsonWriter out, DeleteAssetRequest value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            PlayFabJson.writeMap(out.name("CustomTags"), value.CustomTags, stringAdapter);
+            out.name("FileName").value(value.FileName);
+            out.endObject();
+        }
+
+        @Override
+        public DeleteAssetRequest read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            DeleteAssetRequest value = new DeleteAssetRequest();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "CustomTags": value.CustomTags = PlayFabJson.readMap(in, stringAdapter); break;
+                        case "FileName": value.FileName = PlayFabJson.readString(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class DeleteBuildAliasRequestAdapter extends TypeAdapter<DeleteBuildAliasRequest> {
+        private final TypeAdapter<String> stringAdapter;
+
+        private DeleteBuildAliasRequestAdapter(Gson gson) {
+            stringAdapter = gson.getAdapter(String.class);
+        }
+
+        @Override
+        public void write(JsonWriter out, DeleteBuildAliasRequest value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.name("AliasId").value(value.AliasId);
+            PlayFabJson.writeMap(out.name("CustomTags"), value.CustomTags, stringAdapter);
+            out.endObject();
+        }
+
+        @Override
+        public DeleteBuildAliasRequest read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            DeleteBuildAliasRequest value = new DeleteBuildAliasRequest();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "AliasId": value.AliasId = PlayFabJson.readString(in); break;
+                        case "CustomTags": value.CustomTags = PlayFabJson.readMap(in, stringAdapter); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class DeleteBuildRegionRequestAdapter extends TypeAdapter<DeleteBuildRegionRequest> {
+        private final TypeAdapter<String> stringAdapter;
+
+        private DeleteBuildRegionRequestAdapter(Gson gson) {
+            stringAdapter = gson.getAdapter(String.class);
+        }
+
+        @Override
+        public void write(JsonWriter out, DeleteBuildRegionRequest value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.name("BuildId").value(value.BuildId);
+            PlayFabJson.writeMap(out.name("CustomTags"), value.CustomTags, stringAdapter);
+            out.name("Region").value(value.Region);
+            out.endObject();
+        }
+
+        @Override
+        public DeleteBuildRegionRequest read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            DeleteBuildRegionRequest value = new DeleteBuildRegionRequest();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "BuildId": value.BuildId = PlayFabJson.readString(in); break;
+                        case "CustomTags": value.CustomTags = PlayFabJson.readMap(in, stringAdapter); break;
+                        case "Region": value.Region = PlayFabJson.readString(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class DeleteBuildRequestAdapter extends TypeAdapter<DeleteBuildRequest> {
+        private final TypeAdapter<String> stringAdapter;
+
+        private DeleteBuildRequestAdapter(Gson gson) {
+            stringAdapter = gson.getAdapter(String.class);
+        }
+
+        @Override
+        public void write(JsonWriter out, DeleteBuildRequest value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.name("BuildId").value(value.BuildId);
+            PlayFabJson.writeMap(out.name("CustomTags"), value.CustomTags, stringAdapter);
+            out.endObject();
+        }
+
+        @Override
+        public DeleteBuildRequest read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            DeleteBuildRequest value = new DeleteBuildRequest();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "BuildId": value.BuildId = PlayFabJson.readString(in); break;
+                        case "CustomTags": value.CustomTags = PlayFabJson.readMap(in, stringAdapter); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class DeleteCertificateRequestAdapter extends TypeAdapter<DeleteCertificateRequest> {
+        private final TypeAdapter<String> stringAdapter;
+
+        private DeleteCertificateRequestAdapter(Gson gson) {
+            stringAdapter = gson.getAdapter(String.class);
+        }
+
+        @Override
+        public void write(JsonWriter out, DeleteCertificateRequest value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            PlayFabJson.writeMap(out.name("CustomTags"), value.CustomTags, stringAdapter);
+            out.name("Name").value(value.Name);
+            out.endObject();
+        }
+
+        @Override
+        public DeleteCertificateRequest read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            DeleteCertificateRequest value = new DeleteCertificateRequest();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "CustomTags": value.CustomTags = PlayFabJson.readMap(in, stringAdapter); break;
+                        case "Name": value.Name = PlayFabJson.readString(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class DeleteContainerImageRequestAdapter extends TypeAdapter<DeleteContainerImageRequest> {
+        private final TypeAdapter<String> stringAdapter;
+
+        private DeleteContainerImageRequestAdapter(Gson gson) {
+            stringAdapter = gson.getAdapter(String.class);
+        }
+
+        @Override
+        public void write(JsonWriter out, DeleteContainerImageRequest value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            PlayFabJson.writeMap(out.name("CustomTags"), value.CustomTags, stringAdapter);
+            out.name("ImageName").value(value.ImageName);
+            out.endObject();
+        }
+
+        @Override
+        public DeleteContainerImageRequest read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            DeleteContainerImageRequest value = new DeleteContainerImageRequest();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "CustomTags": value.CustomTags = PlayFabJson.readMap(in, stringAdapter); break;
+                        case "ImageName": value.ImageName = PlayFabJson.readString(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class DeleteRemoteUserRequestAdapter extends TypeAdapter<DeleteRemoteUserRequest> {
+        private final TypeAdapter<String> stringAdapter;
+
+        private DeleteRemoteUserRequestAdapter(Gson gson) {
+            stringAdapter = gson.getAdapter(String.class);
+        }
+
+        @Override
+        public void write(JsonWriter out, DeleteRemoteUserRequest value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.name("BuildId").value(value.BuildId);
+            PlayFabJson.writeMap(out.name("CustomTags"), value.CustomTags, stringAdapter);
+            out.name("Region").value(value.Region);
+            out.name("Username").value(value.Username);
+            out.name("VmId").value(value.VmId);
+            out.endObject();
+        }
+
+        @Override
+        public DeleteRemoteUserRequest read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            DeleteRemoteUserRequest value = new DeleteRemoteUserRequest();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "BuildId": value.BuildId = PlayFabJson.readString(in); break;
+                        case "CustomTags": value.CustomTags = PlayFabJson.readMap(in, stringAdapter); break;
+                        case "Region": value.Region = PlayFabJson.readString(in); break;
+                        case "Username": value.Username = PlayFabJson.readString(in); break;
+                        case "VmId": value.VmId = PlayFabJson.readString(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class DynamicStandbySettingsAdapter extends TypeAdapter<DynamicStandbySettings> {
+        private final TypeAdapter<DynamicStandbyThreshold> dynamicStandbyThresholdAdapter;
+
+        private DynamicStandbySettingsAdapter(Gson gson) {
+            dynamicStandbyThresholdAdapter = gson.getAdapter(DynamicStandbyThreshold.class);
+        }
+
+        @Override
+        public void write(JsonWriter out, DynamicStandbySettings value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            PlayFabJson.writeList(out.name("DynamicFloorMultiplierThresholds"), value.DynamicFloorMultiplierThresholds, dynamicStandbyThresholdAdapter);
+            out.name("IsEnabled").value(value.IsEnabled);
+            out.name("RampDownSeconds").value(value.RampDownSeconds);
+            out.endObject();
+        }
+
+        @Override
+        public DynamicStandbySettings read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            DynamicStandbySettings value = new DynamicStandbySettings();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "DynamicFloorMultiplierThresholds": value.DynamicFloorMultiplierThresholds = PlayFabJson.readList(in, dynamicStandbyThresholdAdapter); break;
+                        case "IsEnabled": value.IsEnabled = PlayFabJson.readBoolean(in); break;
+                        case "RampDownSeconds": value.RampDownSeconds = PlayFabJson.readInteger(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class DynamicStandbyThresholdAdapter extends TypeAdapter<DynamicStandbyThreshold> {
+        private final TypeAdapter<Double> doubleAdapter;
+
+        private DynamicStandbyThresholdAdapter(Gson gson) {
+            doubleAdapter = gson.getAdapter(Double.class);
+        }
+
+        @Override
+        public void write(JsonWriter out, DynamicStandbyThreshold value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            doubleAdapter.write(out.name("Multiplier"), value.Multiplier);
+            doubleAdapter.write(out.name("TriggerThresholdPercentage"), value.TriggerThresholdPercentage);
+            out.endObject();
+        }
+
+        @Override
+        public DynamicStandbyThreshold read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            DynamicStandbyThreshold value = new DynamicStandbyThreshold();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "Multiplier": value.Multiplier = doubleAdapter.read(in); break;
+                        case "TriggerThresholdPercentage": value.TriggerThresholdPercentage = doubleAdapter.read(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class EmptyResponseAdapter extends TypeAdapter<EmptyResponse> {
+        private EmptyResponseAdapter(Gson gson) {
+        }
+
+        @Override
+        public void write(JsonWriter out, EmptyResponse value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.endObject();
+        }
+
+        @Override
+        public EmptyResponse read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            EmptyResponse value = new EmptyResponse();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class EnableMultiplayerServersForTitleRequestAdapter extends TypeAdapter<EnableMultiplayerServersForTitleRequest> {
+        private final TypeAdapter<String> stringAdapter;
+
+        private EnableMultiplayerServersForTitleRequestAdapter(Gson gson) {
+            stringAdapter = gson.getAdapter(String.class);
+        }
+
+        @Override
+        public void write(JsonWriter out, EnableMultiplayerServersForTitleRequest value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            PlayFabJson.writeMap(out.name("CustomTags"), value.CustomTags, stringAdapter);
+            out.endObject();
+        }
+
+        @Override
+        public EnableMultiplayerServersForTitleRequest read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            EnableMultiplayerServersForTitleRequest value = new EnableMultiplayerServersForTitleRequest();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "CustomTags": value.CustomTags = PlayFabJson.readMap(in, stringAdapter); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class EnableMultiplayerServersForTitleResponseAdapter extends TypeAdapter<EnableMultiplayerServersForTitleResponse> {
+        private final TypeAdapter<TitleMultiplayerServerEnabledStatus> titleMultiplayerServerEnabledStatusAdapter;
+
+        private EnableMultiplayerServersForTitleResponseAdapter(Gson gson) {
+            titleMultiplayerServerEnabledStatusAdapter = gson.getAdapter(TitleMultiplayerServerEnabledStatus.class);
+        }
+
+        @Override
+        public void write(JsonWriter out, EnableMultiplayerServersForTitleResponse value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            titleMultiplayerServerEnabledStatusAdapter.write(out.name("Status"), value.Status);
+            out.endObject();
+        }
+
+        @Override
+        public EnableMultiplayerServersForTitleResponse read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            EnableMultiplayerServersForTitleResponse value = new EnableMultiplayerServersForTitleResponse();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "Status": value.Status = titleMultiplayerServerEnabledStatusAdapter.read(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class EntityKeyAdapter extends TypeAdapter<EntityKey> {
+        private EntityKeyAdapter(Gson gson) {
+        }
+
+        @Override
+        public void write(JsonWriter out, EntityKey value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.name("Id").value(value.Id);
+            out.name("Type").value(value.Type);
+            out.endObject();
+        }
+
+        @Override
+        public EntityKey read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            EntityKey value = new EntityKey();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "Id": value.Id = PlayFabJson.readString(in); break;
+                        case "Type": value.Type = PlayFabJson.readString(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class GameCertificateReferenceAdapter extends TypeAdapter<GameCertificateReference> {
+        private GameCertificateReferenceAdapter(Gson gson) {
+        }
+
+        @Override
+        public void write(JsonWriter out, GameCertificateReference value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.name("GsdkAlias").value(value.GsdkAlias);
+            out.name("Name").value(value.Name);
+            out.endObject();
+        }
+
+        @Override
+        public GameCertificateReference read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            GameCertificateReference value = new GameCertificateReference();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "GsdkAlias": value.GsdkAlias = PlayFabJson.readString(in); break;
+                        case "Name": value.Name = PlayFabJson.readString(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class GameCertificateReferenceParamsAdapter extends TypeAdapter<GameCertificateReferenceParams> {
+        private GameCertificateReferenceParamsAdapter(Gson gson) {
+        }
+
+        @Override
+        public void write(JsonWriter out, GameCertificateReferenceParams value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.name("GsdkAlias").value(value.GsdkAlias);
+            out.name("Name").value(value.Name);
+            out.endObject();
+        }
+
+        @Override
+        public GameCertificateReferenceParams read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            GameCertificateReferenceParams value = new GameCertificateReferenceParams();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "GsdkAlias": value.GsdkAlias = PlayFabJson.readString(in); break;
+                        case "Name": value.Name = PlayFabJson.readString(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class GetAssetDownloadUrlRequestAdapter extends TypeAdapter<GetAssetDownloadUrlRequest> {
+        private final TypeAdapter<String> stringAdapter;
+
+        private GetAssetDownloadUrlRequestAdapter(Gson gson) {
+            stringAdapter = gson.getAdapter(String.class);
+        }
+
+        @Override
+        public void write(JsonWriter out, GetAssetDownloadUrlRequest value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            PlayFabJson.writeMap(out.name("CustomTags"), value.CustomTags, stringAdapter);
+            out.name("FileName").value(value.FileName);
+            out.endObject();
+        }
+
+        @Override
+        public GetAssetDownloadUrlRequest read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            GetAssetDownloadUrlRequest value = new GetAssetDownloadUrlRequest();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "CustomTags": value.CustomTags = PlayFabJson.readMap(in, stringAdapter); break;
+                        case "FileName": value.FileName = PlayFabJson.readString(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class GetAssetDownloadUrlResponseAdapter extends TypeAdapter<GetAssetDownloadUrlResponse> {
+        private GetAssetDownloadUrlResponseAdapter(Gson gson) {
+        }
+
+        @Override
+        public void write(JsonWriter out, GetAssetDownloadUrlResponse value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.name("AssetDownloadUrl").value(value.AssetDownloadUrl);
+            out.name("FileName").value(value.FileName);
+            out.endObject();
+        }
+
+        @Override
+        public GetAssetDownloadUrlResponse read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            GetAssetDownloadUrlResponse value = new GetAssetDownloadUrlResponse();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "AssetDownloadUrl": value.AssetDownloadUrl = PlayFabJson.readString(in); break;
+                        case "FileName": value.FileName = PlayFabJson.readString(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class GetAssetUploadUrlRequestAdapter extends TypeAdapter<GetAssetUploadUrlRequest> {
+        private final TypeAdapter<String> stringAdapter;
+
+        private GetAssetUploadUrlRequestAdapter(Gson gson) {
+            stringAdapter = gson.getAdapter(String.class);
+        }
+
+        @Override
+        public void write(JsonWriter out, GetAssetUploadUrlRequest value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            PlayFabJson.writeMap(out.name("CustomTags"), value.CustomTags, stringAdapter);
+            out.name("FileName").value(value.FileName);
+            out.endObject();
+        }
+
+        @Override
+        public GetAssetUploadUrlRequest read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            GetAssetUploadUrlRequest value = new GetAssetUploadUrlRequest();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "CustomTags": value.CustomTags = PlayFabJson.readMap(in, stringAdapter); break;
+                        case "FileName": value.FileName = PlayFabJson.readString(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class GetAssetUploadUrlResponseAdapter extends TypeAdapter<GetAssetUploadUrlResponse> {
+        private GetAssetUploadUrlResponseAdapter(Gson gson) {
+        }
+
+        @Override
+        public void write(JsonWriter out, GetAssetUploadUrlResponse value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.name("AssetUploadUrl").value(value.AssetUploadUrl);
+            out.name("FileName").value(value.FileName);
+            out.endObject();
+        }
+
+        @Override
+        public GetAssetUploadUrlResponse read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            GetAssetUploadUrlResponse value = new GetAssetUploadUrlResponse();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "AssetUploadUrl": value.AssetUploadUrl = PlayFabJson.readString(in); break;
+                        case "FileName": value.FileName = PlayFabJson.readString(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class GetBuildAliasRequestAdapter extends TypeAdapter<GetBuildAliasRequest> {
+        private final TypeAdapter<String> stringAdapter;
+
+        private GetBuildAliasRequestAdapter(Gson gson) {
+            stringAdapter = gson.getAdapter(String.class);
+        }
+
+        @Override
+        public void write(JsonWriter out, GetBuildAliasRequest value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.name("AliasId").value(value.AliasId);
+            PlayFabJson.writeMap(out.name("CustomTags"), value.CustomTags, stringAdapter);
+            out.endObject();
+        }
+
+        @Override
+        public GetBuildAliasRequest read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            GetBuildAliasRequest value = new GetBuildAliasRequest();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "AliasId": value.AliasId = PlayFabJson.readString(in); break;
+                        case "CustomTags": value.CustomTags = PlayFabJson.readMap(in, stringAdapter); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class GetBuildRequestAdapter extends TypeAdapter<GetBuildRequest> {
+        private final TypeAdapter<String> stringAdapter;
+
+        private GetBuildRequestAdapter(Gson gson) {
+            stringAdapter = gson.getAdapter(String.class);
+        }
+
+        @Override
+        public void write(JsonWriter out, GetBuildRequest value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.name("BuildId").value(value.BuildId);
+            PlayFabJson.writeMap(out.name("CustomTags"), value.CustomTags, stringAdapter);
+            out.endObject();
+        }
+
+        @Override
+        public GetBuildRequest read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            GetBuildRequest value = new GetBuildRequest();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "BuildId": value.BuildId = PlayFabJson.readString(in); break;
+                        case "CustomTags": value.CustomTags = PlayFabJson.readMap(in, stringAdapter); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class GetBuildResponseAdapter extends TypeAdapter<GetBuildResponse> {
+        private final TypeAdapter<ContainerFlavor> containerFlavorAdapter;
+        private final TypeAdapter<Date> dateAdapter;
+        private final TypeAdapter<ContainerImageReference> containerImageReferenceAdapter;
+        private final TypeAdapter<AssetReference> assetReferenceAdapter;
+        private final TypeAdapter<GameCertificateReference> gameCertificateReferenceAdapter;
+        private final TypeAdapter<InstrumentationConfiguration> instrumentationConfigurationAdapter;
+        private final TypeAdapter<String> stringAdapter;
+        private final TypeAdapter<Port> portAdapter;
+        private final TypeAdapter<BuildRegion> buildRegionAdapter;
+        private final TypeAdapter<AzureVmSize> azureVmSizeAdapter;
+
+        private GetBuildResponseAdapter(Gson gson) {
+            containerFlavorAdapter = gson.getAdapter(ContainerFlavor.class);
+            dateAdapter = gson.getAdapter(Date.class);
+            containerImageReferenceAdapter = gson.getAdapter(ContainerImageReference.class);
+            assetReferenceAdapter = gson.getAdapter(AssetReference.class);
+            gameCertificateReferenceAdapter = gson.getAdapter(GameCertificateReference.class);
+            instrumentationConfigurationAdapter = gson.getAdapter(InstrumentationConfiguration.class);
+            stringAdapter = gson.getAdapter(String.class);
+            portAdapter = gson.getAdapter(Port.class);
+            buildRegionAdapter = gson.getAdapter(BuildRegion.class);
+            azureVmSizeAdapter = gson.getAdapter(AzureVmSize.class);
+        }
+
+        @Override
+        public void write(JsonWriter out, GetBuildResponse value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.name("AreAssetsReadonly").value(value.AreAssetsReadonly);
+            out.name("BuildId").value(value.BuildId);
+            out.name("BuildName").value(value.BuildName);
+            out.name("BuildStatus").value(value.BuildStatus);
+            containerFlavorAdapter.write(out.name("ContainerFlavor"), value.ContainerFlavor);
+            out.name("ContainerRunCommand").value(value.ContainerRunCommand);
+            dateAdapter.write(out.name("CreationTime"), value.CreationTime);
+            containerImageReferenceAdapter.write(out.name("CustomGameContainerImage"), value.CustomGameContainerImage);
+            PlayFabJson.writeList(out.name("GameAssetReferences"), value.GameAssetReferences, assetReferenceAdapter);
+            PlayFabJson.writeList(out.name("GameCertificateReferences"), value.GameCertificateReferences, gameCertificateReferenceAdapter);
+            instrumentationConfigurationAdapter.write(out.name("InstrumentationConfiguration"), value.InstrumentationConfiguration);
+            PlayFabJson.writeMap(out.name("Metadata"), value.Metadata, stringAdapter);
+            out.name("MultiplayerServerCountPerVm").value(value.MultiplayerServerCountPerVm);
+            out.name("OsPlatform").value(value.OsPlatform);
+            PlayFabJson.writeList(out.name("Ports"), value.Ports, portAdapter);
+            PlayFabJson.writeList(out.name("RegionConfigurations"), value.RegionConfigurations, buildRegionAdapter);
+            out.name("ServerType").value(value.ServerType);
+            out.name("StartMultiplayerServerCommand").value(value.StartMultiplayerServerCommand);
+            out.name("UseStreamingForAssetDownloads").value(value.UseStreamingForAssetDownloads);
+            azureVmSizeAdapter.write(out.name("VmSize"), value.VmSize);
+            out.endObject();
+        }
+
+        @Override
+        public GetBuildResponse read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            GetBuildResponse value = new GetBuildResponse();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "AreAssetsReadonly": value.AreAssetsReadonly = PlayFabJson.readBoolean(in); break;
+                        case "BuildId": value.BuildId = PlayFabJson.readString(in); break;
+                        case "BuildName": value.BuildName = PlayFabJson.readString(in); break;
+                        case "BuildStatus": value.BuildStatus = PlayFabJson.readString(in); break;
+                        case "ContainerFlavor": value.ContainerFlavor = containerFlavorAdapter.read(in); break;
+                        case "ContainerRunCommand": value.ContainerRunCommand = PlayFabJson.readString(in); break;
+                        case "CreationTime": value.CreationTime = dateAdapter.read(in); break;
+                        case "CustomGameContainerImage": value.CustomGameContainerImage = containerImageReferenceAdapter.read(in); break;
+                        case "GameAssetReferences": value.GameAssetReferences = PlayFabJson.readList(in, assetReferenceAdapter); break;
+                        case "GameCertificateReferences": value.GameCertificateReferences = PlayFabJson.readList(in, gameCertificateReferenceAdapter); break;
+                        case "InstrumentationConfiguration": value.InstrumentationConfiguration = instrumentationConfigurationAdapter.read(in); break;
+                        case "Metadata": value.Metadata = PlayFabJson.readMap(in, stringAdapter); break;
+                        case "MultiplayerServerCountPerVm": value.MultiplayerServerCountPerVm = PlayFabJson.readInteger(in); break;
+                        case "OsPlatform": value.OsPlatform = PlayFabJson.readString(in); break;
+                        case "Ports": value.Ports = PlayFabJson.readList(in, portAdapter); break;
+                        case "RegionConfigurations": value.RegionConfigurations = PlayFabJson.readList(in, buildRegionAdapter); break;
+                        case "ServerType": value.ServerType = PlayFabJson.readString(in); break;
+                        case "StartMultiplayerServerCommand": value.StartMultiplayerServerCommand = PlayFabJson.readString(in); break;
+                        case "UseStreamingForAssetDownloads": value.UseStreamingForAssetDownloads = PlayFabJson.readBoolean(in); break;
+                        case "VmSize": value.VmSize = azureVmSizeAdapter.read(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class GetContainerRegistryCredentialsRequestAdapter extends TypeAdapter<GetContainerRegistryCredentialsRequest> {
+        private final TypeAdapter<String> stringAdapter;
+
+        private GetContainerRegistryCredentialsRequestAdapter(Gson gson) {
+            stringAdapter = gson.getAdapter(String.class);
+        }
+
+        @Override
+        public void write(JsonWriter out, GetContainerRegistryCredentialsRequest value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            PlayFabJson.writeMap(out.name("CustomTags"), value.CustomTags, stringAdapter);
+            out.endObject();
+        }
+
+        @Override
+        public GetContainerRegistryCredentialsRequest read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            GetContainerRegistryCredentialsRequest value = new GetContainerRegistryCredentialsRequest();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "CustomTags": value.CustomTags = PlayFabJson.readMap(in, stringAdapter); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class GetContainerRegistryCredentialsResponseAdapter extends TypeAdapter<GetContainerRegistryCredentialsResponse> {
+        private GetContainerRegistryCredentialsResponseAdapter(Gson gson) {
+        }
+
+        @Override
+        public void write(JsonWriter out, GetContainerRegistryCredentialsResponse value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.name("DnsName").value(value.DnsName);
+            out.name("Password").value(value.Password);
+            out.name("Username").value(value.Username);
+            out.endObject();
+        }
+
+        @Override
+        public GetContainerRegistryCredentialsResponse read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            GetContainerRegistryCredentialsResponse value = new GetContainerRegistryCredentialsResponse();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "DnsName": value.DnsName = PlayFabJson.readString(in); break;
+                        case "Password": value.Password = PlayFabJson.readString(in); break;
+                        case "Username": value.Username = PlayFabJson.readString(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class GetMatchmakingTicketRequestAdapter extends TypeAdapter<GetMatchmakingTicketRequest> {
+        private final TypeAdapter<String> stringAdapter;
+
+        private GetMatchmakingTicketRequestAdapter(Gson gson) {
+            stringAdapter = gson.getAdapter(String.class);
+        }
+
+        @Override
+        public void write(JsonWriter out, GetMatchmakingTicketRequest value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            PlayFabJson.writeMap(out.name("CustomTags"), value.CustomTags, stringAdapter);
+            out.name("EscapeObject").value(value.EscapeObject);
+            out.name("QueueName").value(value.QueueName);
+            out.name("TicketId").value(value.TicketId);
+            out.endObject();
+        }
+
+        @Override
+        public GetMatchmakingTicketRequest read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            GetMatchmakingTicketRequest value = new GetMatchmakingTicketRequest();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "CustomTags": value.CustomTags = PlayFabJson.readMap(in, stringAdapter); break;
+                        case "EscapeObject": value.EscapeObject = PlayFabJson.readBoolean(in); break;
+                        case "QueueName": value.QueueName = PlayFabJson.readString(in); break;
+                        case "TicketId": value.TicketId = PlayFabJson.readString(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class GetMatchmakingTicketResultAdapter extends TypeAdapter<GetMatchmakingTicketResult> {
+        private final TypeAdapter<Date> dateAdapter;
+        private final TypeAdapter<EntityKey> entityKeyAdapter;
+        private final TypeAdapter<MatchmakingPlayer> matchmakingPlayerAdapter;
+
+        private GetMatchmakingTicketResultAdapter(Gson gson) {
+            dateAdapter = gson.getAdapter(Date.class);
+            entityKeyAdapter = gson.getAdapter(EntityKey.class);
+            matchmakingPlayerAdapter = gson.getAdapter(MatchmakingPlayer.class);
+        }
+
+        @Override
+        public void write(JsonWriter out, GetMatchmakingTicketResult value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.name("CancellationReasonString").value(value.CancellationReasonString);
+            dateAdapter.write(out.name("Created"), value.Created);
+            entityKeyAdapter.write(out.name("Creator"), value.Creator);
+            out.name("GiveUpAfterSeconds").value(value.GiveUpAfterSeconds);
+            out.name("MatchId").value(value.MatchId);
+            PlayFabJson.writeList(out.name("Members"), value.Members, matchmakingPlayerAdapter);
+            PlayFabJson.writeList(out.name("MembersToMatchWith"), value.MembersToMatchWith, entityKeyAdapter);
+            out.name("QueueName").value(value.QueueName);
+            out.name("Status").value(value.Status);
+            out.name("TicketId").value(value.TicketId);
+            out.endObject();
+        }
+
+        @Override
+        public GetMatchmakingTicketResult read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            GetMatchmakingTicketResult value = new GetMatchmakingTicketResult();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "CancellationReasonString": value.CancellationReasonString = PlayFabJson.readString(in); break;
+                        case "Created": value.Created = dateAdapter.read(in); break;
+                        case "Creator": value.Creator = entityKeyAdapter.read(in); break;
+                        case "GiveUpAfterSeconds": value.GiveUpAfterSeconds = PlayFabJson.readInteger(in); break;
+                        case "MatchId": value.MatchId = PlayFabJson.readString(in); break;
+                        case "Members": value.Members = PlayFabJson.readList(in, matchmakingPlayerAdapter); break;
+                        case "MembersToMatchWith": value.MembersToMatchWith = PlayFabJson.readList(in, entityKeyAdapter); break;
+                        case "QueueName": value.QueueName = PlayFabJson.readString(in); break;
+                        case "Status": value.Status = PlayFabJson.readString(in); break;
+                        case "TicketId": value.TicketId = PlayFabJson.readString(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class GetMatchRequestAdapter extends TypeAdapter<GetMatchRequest> {
+        private final TypeAdapter<String> stringAdapter;
+
+        private GetMatchRequestAdapter(Gson gson) {
+            stringAdapter = gson.getAdapter(String.class);
+        }
+
+        @Override
+        public void write(JsonWriter out, GetMatchRequest value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            PlayFabJson.writeMap(out.name("CustomTags"), value.CustomTags, stringAdapter);
+            out.name("EscapeObject").value(value.EscapeObject);
+            out.name("MatchId").value(value.MatchId);
+            out.name("QueueName").value(value.QueueName);
+            out.name("ReturnMemberAttributes").value(value.ReturnMemberAttributes);
+            out.endObject();
+        }
+
+        @Override
+        public GetMatchRequest read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            GetMatchRequest value = new GetMatchRequest();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "CustomTags": value.CustomTags = PlayFabJson.readMap(in, stringAdapter); break;
+                        case "EscapeObject": value.EscapeObject = PlayFabJson.readBoolean(in); break;
+                        case "MatchId": value.MatchId = PlayFabJson.readString(in); break;
+                        case "QueueName": value.QueueName = PlayFabJson.readString(in); break;
+                        case "ReturnMemberAttributes": value.ReturnMemberAttributes = PlayFabJson.readBoolean(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class GetMatchResultAdapter extends TypeAdapter<GetMatchResult> {
+        private final TypeAdapter<MatchmakingPlayerWithTeamAssignment> matchmakingPlayerWithTeamAssignmentAdapter;
+        private final TypeAdapter<String> stringAdapter;
+        private final TypeAdapter<ServerDetails> serverDetailsAdapter;
+
+        private GetMatchResultAdapter(Gson gson) {
+            matchmakingPlayerWithTeamAssignmentAdapter = gson.getAdapter(MatchmakingPlayerWithTeamAssignment.class);
+            stringAdapter = gson.getAdapter(String.class);
+            serverDetailsAdapter = gson.getAdapter(ServerDetails.class);
+        }
+
+        @Override
+        public void write(JsonWriter out, GetMatchResult value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.name("MatchId").value(value.MatchId);
+            PlayFabJson.writeList(out.name("Members"), value.Members, matchmakingPlayerWithTeamAssignmentAdapter);
+            PlayFabJson.writeList(out.name("RegionPreferences"), value.RegionPreferences, stringAdapter);
+            serverDetailsAdapter.write(out.name("ServerDetails"), value.ServerDetails);
+            out.endObject();
+        }
+
+        @Override
+        public GetMatchResult read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            GetMatchResult value = new GetMatchResult();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "MatchId": value.MatchId = PlayFabJson.readString(in); break;
+                        case "Members": value.Members = PlayFabJson.readList(in, matchmakingPlayerWithTeamAssignmentAdapter); break;
+                        case "RegionPreferences": value.RegionPreferences = PlayFabJson.readList(in, stringAdapter); break;
+                        case "ServerDetails": value.ServerDetails = serverDetailsAdapter.read(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class GetMultiplayerServerDetailsRequestAdapter extends TypeAdapter<GetMultiplayerServerDetailsRequest> {
+        private final TypeAdapter<String> stringAdapter;
+
+        private GetMultiplayerServerDetailsRequestAdapter(Gson gson) {
+            stringAdapter = gson.getAdapter(String.class);
+        }
+
+        @Override
+        public void write(JsonWriter out, GetMultiplayerServerDetailsRequest value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.name("BuildId").value(value.BuildId);
+            PlayFabJson.writeMap(out.name("CustomTags"), value.CustomTags, stringAdapter);
+            out.name("Region").value(value.Region);
+            out.name("SessionId").value(value.SessionId);
+            out.endObject();
+        }
+
+        @Override
+        public GetMultiplayerServerDetailsRequest read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            GetMultiplayerServerDetailsRequest value = new GetMultiplayerServerDetailsRequest();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "BuildId": value.BuildId = PlayFabJson.readString(in); break;
+                        case "CustomTags": value.CustomTags = PlayFabJson.readMap(in, stringAdapter); break;
+                        case "Region": value.Region = PlayFabJson.readString(in); break;
+                        case "SessionId": value.SessionId = PlayFabJson.readString(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class GetMultiplayerServerDetailsResponseAdapter extends TypeAdapter<GetMultiplayerServerDetailsResponse> {
+        private final TypeAdapter<ConnectedPlayer> connectedPlayerAdapter;
+        private final TypeAdapter<Date> dateAdapter;
+        private final TypeAdapter<Port> portAdapter;
+
+        private GetMultiplayerServerDetailsResponseAdapter(Gson gson) {
+            connectedPlayerAdapter = gson.getAdapter(ConnectedPlayer.class);
+            dateAdapter = gson.getAdapter(Date.class);
+            portAdapter = gson.getAdapter(Port.class);
+        }
+
+        @Override
+        public void write(JsonWriter out, GetMultiplayerServerDetailsResponse value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.name("BuildId").value(value.BuildId);
+            PlayFabJson.writeList(out.name("ConnectedPlayers"), value.ConnectedPlayers, connectedPlayerAdapter);
+            out.name("FQDN").value(value.FQDN);
+            out.name("IPV4Address").value(value.IPV4Address);
+            dateAdapter.write(out.name("LastStateTransitionTime"), value.LastStateTransitionTime);
+            PlayFabJson.writeList(out.name("Ports"), value.Ports, portAdapter);
+            out.name("Region").value(value.Region);
+            out.name("ServerId").value(value.ServerId);
+            out.name("SessionId").value(value.SessionId);
+            out.name("State").value(value.State);
+            out.name("VmId").value(value.VmId);
+            out.endObject();
+        }
+
+        @Override
+        public GetMultiplayerServerDetailsResponse read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            GetMultiplayerServerDetailsResponse value = new GetMultiplayerServerDetailsResponse();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "BuildId": value.BuildId = PlayFabJson.readString(in); break;
+                        case "ConnectedPlayers": value.ConnectedPlayers = PlayFabJson.readList(in, connectedPlayerAdapter); break;
+                        case "FQDN": value.FQDN = PlayFabJson.readString(in); break;
+                        case "IPV4Address": value.IPV4Address = PlayFabJson.readString(in); break;
+                        case "LastStateTransitionTime": value.LastStateTransitionTime = dateAdapter.read(in); break;
+                        case "Ports": value.Ports = PlayFabJson.readList(in, portAdapter); break;
+                        case "Region": value.Region = PlayFabJson.readString(in); break;
+                        case "ServerId": value.ServerId = PlayFabJson.readString(in); break;
+                        case "SessionId": value.SessionId = PlayFabJson.readString(in); break;
+                        case "State": value.State = PlayFabJson.readString(in); break;
+                        case "VmId": value.VmId = PlayFabJson.readString(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class GetMultiplayerServerLogsRequestAdapter extends TypeAdapter<GetMultiplayerServerLogsRequest> {
+        private final TypeAdapter<String> stringAdapter;
+
+        private GetMultiplayerServerLogsRequestAdapter(Gson gson) {
+            stringAdapter = gson.getAdapter(String.class);
+        }
+
+        @Override
+        public void write(JsonWriter out, GetMultiplayerServerLogsRequest value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            PlayFabJson.writeMap(out.name("CustomTags"), value.CustomTags, stringAdapter);
+            out.name("ServerId").value(value.ServerId);
+            out.endObject();
+        }
+
+        @Override
+        public GetMultiplayerServerLogsRequest read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            GetMultiplayerServerLogsRequest value = new GetMultiplayerServerLogsRequest();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "CustomTags": value.CustomTags = PlayFabJson.readMap(in, stringAdapter); break;
+                        case "ServerId": value.ServerId = PlayFabJson.readString(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class GetMultiplayerServerLogsResponseAdapter extends TypeAdapter<GetMultiplayerServerLogsResponse> {
+        private GetMultiplayerServerLogsResponseAdapter(Gson gson) {
+        }
+
+        @Override
+        public void write(JsonWriter out, GetMultiplayerServerLogsResponse value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.name("LogDownloadUrl").value(value.LogDownloadUrl);
+            out.endObject();
+        }
+
+        @Override
+        public GetMultiplayerServerLogsResponse read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            GetMultiplayerServerLogsResponse value = new GetMultiplayerServerLogsResponse();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "LogDownloadUrl": value.LogDownloadUrl = PlayFabJson.readString(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class GetMultiplayerSessionLogsBySessionIdRequestAdapter extends TypeAdapter<GetMultiplayerSessionLogsBySessionIdRequest> {
+        private final TypeAdapter<String> stringAdapter;
+
+        private GetMultiplayerSessionLogsBySessionIdRequestAdapter(Gson gson) {
+            stringAdapter = gson.getAdapter(String.class);
+        }
+
+        @Override
+        public void write(JsonWriter out, GetMultiplayerSessionLogsBySessionIdRequest value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            PlayFabJson.writeMap(out.name("CustomTags"), value.CustomTags, stringAdapter);
+            out.name("SessionId").value(value.SessionId);
+            out.endObject();
+        }
+
+        @Override
+        public GetMultiplayerSessionLogsBySessionIdRequest read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            GetMultiplayerSessionLogsBySessionIdRequest value = new GetMultiplayerSessionLogsBySessionIdRequest();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "CustomTags": value.CustomTags = PlayFabJson.readMap(in, stringAdapter); break;
+                        case "SessionId": value.SessionId = PlayFabJson.readString(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class GetQueueStatisticsRequestAdapter extends TypeAdapter<GetQueueStatisticsRequest> {
+        private final TypeAdapter<String> stringAdapter;
+
+        private GetQueueStatisticsRequestAdapter(Gson gson) {
+            stringAdapter = gson.getAdapter(String.class);
+        }
+
+        @Override
+        public void write(JsonWriter out, GetQueueStatisticsRequest value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            PlayFabJson.writeMap(out.name("CustomTags"), value.CustomTags, stringAdapter);
+            out.name("QueueName").value(value.QueueName);
+            out.endObject();
+        }
+
+        @Override
+        public GetQueueStatisticsRequest read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            GetQueueStatisticsRequest value = new GetQueueStatisticsRequest();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "CustomTags": value.CustomTags = PlayFabJson.readMap(in, stringAdapter); break;
+                        case "QueueName": value.QueueName = PlayFabJson.readString(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class GetQueueStatisticsResultAdapter extends TypeAdapter<GetQueueStatisticsResult> {
+        private final TypeAdapter<Statistics> statisticsAdapter;
+
+        private GetQueueStatisticsResultAdapter(Gson gson) {
+            statisticsAdapter = gson.getAdapter(Statistics.class);
+        }
+
+        @Override
+        public void write(JsonWriter out, GetQueueStatisticsResult value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.name("NumberOfPlayersMatching").value(value.NumberOfPlayersMatching);
+            statisticsAdapter.write(out.name("TimeToMatchStatisticsInSeconds"), value.TimeToMatchStatisticsInSeconds);
+            out.endObject();
+        }
+
+        @Override
+        public GetQueueStatisticsResult read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            GetQueueStatisticsResult value = new GetQueueStatisticsResult();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "NumberOfPlayersMatching": value.NumberOfPlayersMatching = PlayFabJson.readLong(in); break;
+                        case "TimeToMatchStatisticsInSeconds": value.TimeToMatchStatisticsInSeconds = statisticsAdapter.read(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class GetRemoteLoginEndpointRequestAdapter extends TypeAdapter<GetRemoteLoginEndpointRequest> {
+        private final TypeAdapter<String> stringAdapter;
+
+        private GetRemoteLoginEndpointRequestAdapter(Gson gson) {
+            stringAdapter = gson.getAdapter(String.class);
+        }
+
+        @Override
+        public void write(JsonWriter out, GetRemoteLoginEndpointRequest value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.name("BuildId").value(value.BuildId);
+            PlayFabJson.writeMap(out.name("CustomTags"), value.CustomTags, stringAdapter);
+            out.name("Region").value(value.Region);
+            out.name("VmId").value(value.VmId);
+            out.endObject();
+        }
+
+        @Override
+        public GetRemoteLoginEndpointRequest read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            GetRemoteLoginEndpointRequest value = new GetRemoteLoginEndpointRequest();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "BuildId": value.BuildId = PlayFabJson.readString(in); break;
+                        case "CustomTags": value.CustomTags = PlayFabJson.readMap(in, stringAdapter); break;
+                        case "Region": value.Region = PlayFabJson.readString(in); break;
+                        case "VmId": value.VmId = PlayFabJson.readString(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class GetRemoteLoginEndpointResponseAdapter extends TypeAdapter<GetRemoteLoginEndpointResponse> {
+        private GetRemoteLoginEndpointResponseAdapter(Gson gson) {
+        }
+
+        @Override
+        public void write(JsonWriter out, GetRemoteLoginEndpointResponse value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.name("IPV4Address").value(value.IPV4Address);
+            out.name("Port").value(value.Port);
+            out.endObject();
+        }
+
+        @Override
+        public GetRemoteLoginEndpointResponse read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            GetRemoteLoginEndpointResponse value = new GetRemoteLoginEndpointResponse();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "IPV4Address": value.IPV4Address = PlayFabJson.readString(in); break;
+                        case "Port": value.Port = PlayFabJson.readInteger(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class GetServerBackfillTicketRequestAdapter extends TypeAdapter<GetServerBackfillTicketRequest> {
+        private final TypeAdapter<String> stringAdapter;
+
+        private GetServerBackfillTicketRequestAdapter(Gson gson) {
+            stringAdapter = gson.getAdapter(String.class);
+        }
+
+        @Override
+        public void write(JsonWriter out, GetServerBackfillTicketRequest value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            PlayFabJson.writeMap(out.name("CustomTags"), value.CustomTags, stringAdapter);
+            out.name("EscapeObject").value(value.EscapeObject);
+            out.name("QueueName").value(value.QueueName);
+            out.name("TicketId").value(value.TicketId);
+            out.endObject();
+        }
+
+        @Override
+        public GetServerBackfillTicketRequest read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            GetServerBackfillTicketRequest value = new GetServerBackfillTicketRequest();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "CustomTags": value.CustomTags = PlayFabJson.readMap(in, stringAdapter); break;
+                        case "EscapeObject": value.EscapeObject = PlayFabJson.readBoolean(in); break;
+                        case "QueueName": value.QueueName = PlayFabJson.readString(in); break;
+                        case "TicketId": value.TicketId = PlayFabJson.readString(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class GetServerBackfillTicketResultAdapter extends TypeAdapter<GetServerBackfillTicketResult> {
+        private final TypeAdapter<Date> dateAdapter;
+        private final TypeAdapter<MatchmakingPlayerWithTeamAssignment> matchmakingPlayerWithTeamAssignmentAdapter;
+        private final TypeAdapter<ServerDetails> serverDetailsAdapter;
+
+        private GetServerBackfillTicketResultAdapter(Gson gson) {
+            dateAdapter = gson.getAdapter(Date.class);
+            matchmakingPlayerWithTeamAssignmentAdapter = gson.getAdapter(MatchmakingPlayerWithTeamAssignment.class);
+            serverDetailsAdapter = gson.getAdapter(ServerDetails.class);
+        }
+
+        @Override
+        public void write(JsonWriter out, GetServerBackfillTicketResult value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.name("CancellationReasonString").value(value.CancellationReasonString);
+            dateAdapter.write(out.name("Created"), value.Created);
+            out.name("GiveUpAfterSeconds").value(value.GiveUpAfterSeconds);
+            out.name("MatchId").value(value.MatchId);
+            PlayFabJson.writeList(out.name("Members"), value.Members, matchmakingPlayerWithTeamAssignmentAdapter);
+            out.name("QueueName").value(value.QueueName);
+            serverDetailsAdapter.write(out.name("ServerDetails"), value.ServerDetails);
+            out.name("Status").value(value.Status);
+            out.name("TicketId").value(value.TicketId);
+            out.endObject();
+        }
+
+        @Override
+        public GetServerBackfillTicketResult read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            GetServerBackfillTicketResult value = new GetServerBackfillTicketResult();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "CancellationReasonString": value.CancellationReasonString = PlayFabJson.readString(in); break;
+                        case "Created": value.Created = dateAdapter.read(in); break;
+                        case "GiveUpAfterSeconds": value.GiveUpAfterSeconds = PlayFabJson.readInteger(in); break;
+                        case "MatchId": value.MatchId = PlayFabJson.readString(in); break;
+                        case "Members": value.Members = PlayFabJson.readList(in, matchmakingPlayerWithTeamAssignmentAdapter); break;
+                        case "QueueName": value.QueueName = PlayFabJson.readString(in); break;
+                        case "ServerDetails": value.ServerDetails = serverDetailsAdapter.read(in); break;
+                        case "Status": value.Status = PlayFabJson.readString(in); break;
+                        case "TicketId": value.TicketId = PlayFabJson.readString(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class GetTitleEnabledForMultiplayerServersStatusRequestAdapter extends TypeAdapter<GetTitleEnabledForMultiplayerServersStatusRequest> {
+        private final TypeAdapter<String> stringAdapter;
+
+        private GetTitleEnabledForMultiplayerServersStatusRequestAdapter(Gson gson) {
+            stringAdapter = gson.getAdapter(String.class);
+        }
+
+        @Override
+        public void write(JsonWriter out, GetTitleEnabledForMultiplayerServersStatusRequest value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            PlayFabJson.writeMap(out.name("CustomTags"), value.CustomTags, stringAdapter);
+            out.endObject();
+        }
+
+        @Override
+        public GetTitleEnabledForMultiplayerServersStatusRequest read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            GetTitleEnabledForMultiplayerServersStatusRequest value = new GetTitleEnabledForMultiplayerServersStatusRequest();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "CustomTags": value.CustomTags = PlayFabJson.readMap(in, stringAdapter); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class GetTitleEnabledForMultiplayerServersStatusResponseAdapter extends TypeAdapter<GetTitleEnabledForMultiplayerServersStatusResponse> {
+        private final TypeAdapter<TitleMultiplayerServerEnabledStatus> titleMultiplayerServerEnabledStatusAdapter;
+
+        private GetTitleEnabledForMultiplayerServersStatusResponseAdapter(Gson gson) {
+            titleMultiplayerServerEnabledStatusAdapter = gson.getAdapter(TitleMultiplayerServerEnabledStatus.class);
+        }
+
+        @Override
+        public void write(JsonWriter out, GetTitleEnabledForMultiplayerServersStatusResponse value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            titleMultiplayerServerEnabledStatusAdapter.write(out.name("Status"), value.Status);
+            out.endObject();
+        }
+
+        @Override
+        public GetTitleEnabledForMultiplayerServersStatusResponse read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            GetTitleEnabledForMultiplayerServersStatusResponse value = new GetTitleEnabledForMultiplayerServersStatusResponse();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "Status": value.Status = titleMultiplayerServerEnabledStatusAdapter.read(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class GetTitleMultiplayerServersQuotaChangeRequestAdapter extends TypeAdapter<GetTitleMultiplayerServersQuotaChangeRequest> {
+        private final TypeAdapter<String> stringAdapter;
+
+        private GetTitleMultiplayerServersQuotaChangeRequestAdapter(Gson gson) {
+            stringAdapter = gson.getAdapter(String.class);
+        }
+
+        @Override
+        public void write(JsonWriter out, GetTitleMultiplayerServersQuotaChangeRequest value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            PlayFabJson.writeMap(out.name("CustomTags"), value.CustomTags, stringAdapter);
+            out.name("RequestId").value(value.RequestId);
+            out.endObject();
+        }
+
+        @Override
+        public GetTitleMultiplayerServersQuotaChangeRequest read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            GetTitleMultiplayerServersQuotaChangeRequest value = new GetTitleMultiplayerServersQuotaChangeRequest();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "CustomTags": value.CustomTags = PlayFabJson.readMap(in, stringAdapter); break;
+                        case "RequestId": value.RequestId = PlayFabJson.readString(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class GetTitleMultiplayerServersQuotaChangeResponseAdapter extends TypeAdapter<GetTitleMultiplayerServersQuotaChangeResponse> {
+        private final TypeAdapter<QuotaChange> quotaChangeAdapter;
+
+        private GetTitleMultiplayerServersQuotaChangeResponseAdapter(Gson gson) {
+            quotaChangeAdapter = gson.getAdapter(QuotaChange.class);
+        }
+
+        @Override
+        public void write(JsonWriter out, GetTitleMultiplayerServersQuotaChangeResponse value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            quotaChangeAdapter.write(out.name("Change"), value.Change);
+            out.endObject();
+        }
+
+        @Override
+        public GetTitleMultiplayerServersQuotaChangeResponse read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            GetTitleMultiplayerServersQuotaChangeResponse value = new GetTitleMultiplayerServersQuotaChangeResponse();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "Change": value.Change = quotaChangeAdapter.read(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class GetTitleMultiplayerServersQuotasRequestAdapter extends TypeAdapter<GetTitleMultiplayerServersQuotasRequest> {
+        private final TypeAdapter<String> stringAdapter;
+
+        private GetTitleMultiplayerServersQuotasRequestAdapter(Gson gson) {
+            stringAdapter = gson.getAdapter(String.class);
+        }
+
+        @Override
+        public void write(JsonWriter out, GetTitleMultiplayerServersQuotasRequest value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            PlayFabJson.writeMap(out.name("CustomTags"), value.CustomTags, stringAdapter);
+            out.endObject();
+        }
+
+        @Override
+        public GetTitleMultiplayerServersQuotasRequest read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            GetTitleMultiplayerServersQuotasRequest value = new GetTitleMultiplayerServersQuotasRequest();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "CustomTags": value.CustomTags = PlayFabJson.readMap(in, stringAdapter); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class GetTitleMultiplayerServersQuotasResponseAdapter extends TypeAdapter<GetTitleMultiplayerServersQuotasResponse> {
+        private final TypeAdapter<TitleMultiplayerServersQuotas> titleMultiplayerServersQuotasAdapter;
+
+        private GetTitleMultiplayerServersQuotasResponseAdapter(Gson gson) {
+            titleMultiplayerServersQuotasAdapter = gson.getAdapter(TitleMultiplayerServersQuotas.class);
+        }
+
+        @Override
+        public void write(JsonWriter out, GetTitleMultiplayerServersQuotasResponse value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            titleMultiplayerServersQuotasAdapter.write(out.name("Quotas"), value.Quotas);
+            out.endObject();
+        }
+
+        @Override
+        public GetTitleMultiplayerServersQuotasResponse read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            GetTitleMultiplayerServersQuotasResponse value = new GetTitleMultiplayerServersQuotasResponse();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "Quotas": value.Quotas = titleMultiplayerServersQuotasAdapter.read(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class InstrumentationConfigurationAdapter extends TypeAdapter<InstrumentationConfiguration> {
+        private final TypeAdapter<String> stringAdapter;
+
+        private InstrumentationConfigurationAdapter(Gson gson) {
+            stringAdapter = gson.getAdapter(String.class);
+        }
+
+        @Override
+        public void write(JsonWriter out, InstrumentationConfiguration value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.name("IsEnabled").value(value.IsEnabled);
+            PlayFabJson.writeList(out.name("ProcessesToMonitor"), value.ProcessesToMonitor, stringAdapter);
+            out.endObject();
+        }
+
+        @Override
+        public InstrumentationConfiguration read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            InstrumentationConfiguration value = new InstrumentationConfiguration();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "IsEnabled": value.IsEnabled = PlayFabJson.readBoolean(in); break;
+                        case "ProcessesToMonitor": value.ProcessesToMonitor = PlayFabJson.readList(in, stringAdapter); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class JoinMatchmakingTicketRequestAdapter extends TypeAdapter<JoinMatchmakingTicketRequest> {
+        private final TypeAdapter<String> stringAdapter;
+        private final TypeAdapter<MatchmakingPlayer> matchmakingPlayerAdapter;
+
+        private JoinMatchmakingTicketRequestAdapter(Gson gson) {
+            stringAdapter = gson.getAdapter(String.class);
+            matchmakingPlayerAdapter = gson.getAdapter(MatchmakingPlayer.class);
+        }
+
+        @Override
+        public void write(JsonWriter out, JoinMatchmakingTicketRequest value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            PlayFabJson.writeMap(out.name("CustomTags"), value.CustomTags, stringAdapter);
+            matchmakingPlayerAdapter.write(out.name("Member"), value.Member);
+            out.name("QueueName").value(value.QueueName);
+            out.name("TicketId").value(value.TicketId);
+            out.endObject();
+        }
+
+        @Override
+        public JoinMatchmakingTicketRequest read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            JoinMatchmakingTicketRequest value = new JoinMatchmakingTicketRequest();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "CustomTags": value.CustomTags = PlayFabJson.readMap(in, stringAdapter); break;
+                        case "Member": value.Member = matchmakingPlayerAdapter.read(in); break;
+                        case "QueueName": value.QueueName = PlayFabJson.readString(in); break;
+                        case "TicketId": value.TicketId = PlayFabJson.readString(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class JoinMatchmakingTicketResultAdapter extends TypeAdapter<JoinMatchmakingTicketResult> {
+        private JoinMatchmakingTicketResultAdapter(Gson gson) {
+        }
+
+        @Override
+        public void write(JsonWriter out, JoinMatchmakingTicketResult value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.endObject();
+        }
+
+        @Override
+        public JoinMatchmakingTicketResult read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            JoinMatchmakingTicketResult value = new JoinMatchmakingTicketResult();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class LinuxInstrumentationConfigurationAdapter extends TypeAdapter<LinuxInstrumentationConfiguration> {
+        private LinuxInstrumentationConfigurationAdapter(Gson gson) {
+        }
+
+        @Override
+        public void write(JsonWriter out, LinuxInstrumentationConfiguration value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.name("IsEnabled").value(value.IsEnabled);
+            out.endObject();
+        }
+
+        @Override
+        public LinuxInstrumentationConfiguration read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            LinuxInstrumentationConfiguration value = new LinuxInstrumentationConfiguration();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "IsEnabled": value.IsEnabled = PlayFabJson.readBoolean(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class ListAssetSummariesRequestAdapter extends TypeAdapter<ListAssetSummariesRequest> {
+        private final TypeAdapter<String> stringAdapter;
+
+        private ListAssetSummariesRequestAdapter(Gson gson) {
+            stringAdapter = gson.getAdapter(String.class);
+        }
+
+        @Override
+        public void write(JsonWriter out, ListAssetSummariesRequest value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            PlayFabJson.writeMap(out.name("CustomTags"), value.CustomTags, stringAdapter);
+            out.name("PageSize").value(value.PageSize);
+            out.name("SkipToken").value(value.SkipToken);
+            out.endObject();
+        }
+
+        @Override
+        public ListAssetSummariesRequest read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            ListAssetSummariesRequest value = new ListAssetSummariesRequest();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "CustomTags": value.CustomTags = PlayFabJson.readMap(in, stringAdapter); break;
+                        case "PageSize": value.PageSize = PlayFabJson.readInteger(in); break;
+                        case "SkipToken": value.SkipToken = PlayFabJson.readString(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class ListAssetSummariesResponseAdapter extends TypeAdapter<ListAssetSummariesResponse> {
+        private final TypeAdapter<AssetSummary> assetSummaryAdapter;
+
+        private ListAssetSummariesResponseAdapter(Gson gson) {
+            assetSummaryAdapter = gson.getAdapter(AssetSummary.class);
+        }
+
+        @Override
+        public void write(JsonWriter out, ListAssetSummariesResponse value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            PlayFabJson.writeList(out.name("AssetSummaries"), value.AssetSummaries, assetSummaryAdapter);
+            out.name("PageSize").value(value.PageSize);
+            out.name("SkipToken").value(value.SkipToken);
+            out.endObject();
+        }
+
+        @Override
+        public ListAssetSummariesResponse read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            ListAssetSummariesResponse value = new ListAssetSummariesResponse();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "AssetSummaries": value.AssetSummaries = PlayFabJson.readList(in, assetSummaryAdapter); break;
+                        case "PageSize": value.PageSize = PlayFabJson.readInteger(in); break;
+                        case "SkipToken": value.SkipToken = PlayFabJson.readString(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class ListBuildAliasesRequestAdapter extends TypeAdapter<ListBuildAliasesRequest> {
+        private final TypeAdapter<String> stringAdapter;
+
+        private ListBuildAliasesRequestAdapter(Gson gson) {
+            stringAdapter = gson.getAdapter(String.class);
+        }
+
+        @Override
+        public void write(JsonWriter out, ListBuildAliasesRequest value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            PlayFabJson.writeMap(out.name("CustomTags"), value.CustomTags, stringAdapter);
+            out.name("PageSize").value(value.PageSize);
+            out.name("SkipToken").value(value.SkipToken);
+            out.endObject();
+        }
+
+        @Override
+        public ListBuildAliasesRequest read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            ListBuildAliasesRequest value = new ListBuildAliasesRequest();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "CustomTags": value.CustomTags = PlayFabJson.readMap(in, stringAdapter); break;
+                        case "PageSize": value.PageSize = PlayFabJson.readInteger(in); break;
+                        case "SkipToken": value.SkipToken = PlayFabJson.readString(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class ListBuildAliasesResponseAdapter extends TypeAdapter<ListBuildAliasesResponse> {
+        private final TypeAdapter<BuildAliasDetailsResponse> buildAliasDetailsResponseAdapter;
+
+        private ListBuildAliasesResponseAdapter(Gson gson) {
+            buildAliasDetailsResponseAdapter = gson.getAdapter(BuildAliasDetailsResponse.class);
+        }
+
+        @Override
+        public void write(JsonWriter out, ListBuildAliasesResponse value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            PlayFabJson.writeList(out.name("BuildAliases"), value.BuildAliases, buildAliasDetailsResponseAdapter);
+            out.name("PageSize").value(value.PageSize);
+            out.name("SkipToken").value(value.SkipToken);
+            out.endObject();
+        }
+
+        @Override
+        public ListBuildAliasesResponse read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            ListBuildAliasesResponse value = new ListBuildAliasesResponse();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "BuildAliases": value.BuildAliases = PlayFabJson.readList(in, buildAliasDetailsResponseAdapter); break;
+                        case "PageSize": value.PageSize = PlayFabJson.readInteger(in); break;
+                        case "SkipToken": value.SkipToken = PlayFabJson.readString(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class ListBuildSummariesRequestAdapter extends TypeAdapter<ListBuildSummariesRequest> {
+        private final TypeAdapter<String> stringAdapter;
+
+        private ListBuildSummariesRequestAdapter(Gson gson) {
+            stringAdapter = gson.getAdapter(String.class);
+        }
+
+        @Override
+        public void write(JsonWriter out, ListBuildSummariesRequest value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            PlayFabJson.writeMap(out.name("CustomTags"), value.CustomTags, stringAdapter);
+            out.name("PageSize").value(value.PageSize);
+            out.name("SkipToken").value(value.SkipToken);
+            out.endObject();
+        }
+
+        @Override
+        public ListBuildSummariesRequest read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            ListBuildSummariesRequest value = new ListBuildSummariesRequest();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "CustomTags": value.CustomTags = PlayFabJson.readMap(in, stringAdapter); break;
+                        case "PageSize": value.PageSize = PlayFabJson.readInteger(in); break;
+                        case "SkipToken": value.SkipToken = PlayFabJson.readString(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class ListBuildSummariesResponseAdapter extends TypeAdapter<ListBuildSummariesResponse> {
+        private final TypeAdapter<BuildSummary> buildSummaryAdapter;
+
+        private ListBuildSummariesResponseAdapter(Gson gson) {
+            buildSummaryAdapter = gson.getAdapter(BuildSummary.class);
+        }
+
+        @Override
+        public void write(JsonWriter out, ListBuildSummariesResponse value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            PlayFabJson.writeList(out.name("BuildSummaries"), value.BuildSummaries, buildSummaryAdapter);
+            out.name("PageSize").value(value.PageSize);
+            out.name("SkipToken").value(value.SkipToken);
+            out.endObject();
+        }
+
+        @Override
+        public ListBuildSummariesResponse read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            ListBuildSummariesResponse value = new ListBuildSummariesResponse();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "BuildSummaries": value.BuildSummaries = PlayFabJson.readList(in, buildSummaryAdapter); break;
+                        case "PageSize": value.PageSize = PlayFabJson.readInteger(in); break;
+                        case "SkipToken": value.SkipToken = PlayFabJson.readString(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class ListCertificateSummariesRequestAdapter extends TypeAdapter<ListCertificateSummariesRequest> {
+        private final TypeAdapter<String> stringAdapter;
+
+        private ListCertificateSummariesRequestAdapter(Gson gson) {
+            stringAdapter = gson.getAdapter(String.class);
+        }
+
+        @Override
+        public void write(JsonWriter out, ListCertificateSummariesRequest value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            PlayFabJson.writeMap(out.name("CustomTags"), value.CustomTags, stringAdapter);
+            out.name("PageSize").value(value.PageSize);
+            out.name("SkipToken").value(value.SkipToken);
+            out.endObject();
+        }
+
+        @Override
+        public ListCertificateSummariesRequest read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            ListCertificateSummariesRequest value = new ListCertificateSummariesRequest();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "CustomTags": value.CustomTags = PlayFabJson.readMap(in, stringAdapter); break;
+                        case "PageSize": value.PageSize = PlayFabJson.readInteger(in); break;
+                        case "SkipToken": value.SkipToken = PlayFabJson.readString(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class ListCertificateSummariesResponseAdapter extends TypeAdapter<ListCertificateSummariesResponse> {
+        private final TypeAdapter<CertificateSummary> certificateSummaryAdapter;
+
+        private ListCertificateSummariesResponseAdapter(Gson gson) {
+            certificateSummaryAdapter = gson.getAdapter(CertificateSummary.class);
+        }
+
+        @Override
+        public void write(JsonWriter out, ListCertificateSummariesResponse value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            PlayFabJson.writeList(out.name("CertificateSummaries"), value.CertificateSummaries, certificateSummaryAdapter);
+            out.name("PageSize").value(value.PageSize);
+            out.name("SkipToken").value(value.SkipToken);
+            out.endObject();
+        }
+
+        @Override
+        public ListCertificateSummariesResponse read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            ListCertificateSummariesResponse value = new ListCertificateSummariesResponse();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "CertificateSummaries": value.CertificateSummaries = PlayFabJson.readList(in, certificateSummaryAdapter); break;
+                        case "PageSize": value.PageSize = PlayFabJson.readInteger(in); break;
+                        case "SkipToken": value.SkipToken = PlayFabJson.readString(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class ListContainerImagesRequestAdapter extends TypeAdapter<ListContainerImagesRequest> {
+        private final TypeAdapter<String> stringAdapter;
+
+        private ListContainerImagesRequestAdapter(Gson gson) {
+            stringAdapter = gson.getAdapter(String.class);
+        }
+
+        @Override
+        public void write(JsonWriter out, ListContainerImagesRequest value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            PlayFabJson.writeMap(out.name("CustomTags"), value.CustomTags, stringAdapter);
+            out.name("PageSize").value(value.PageSize);
+            out.name("SkipToken").value(value.SkipToken);
+            out.endObject();
+        }
+
+        @Override
+        public ListContainerImagesRequest read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            ListContainerImagesRequest value = new ListContainerImagesRequest();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "CustomTags": value.CustomTags = PlayFabJson.readMap(in, stringAdapter); break;
+                        case "PageSize": value.PageSize = PlayFabJson.readInteger(in); break;
+                        case "SkipToken": value.SkipToken = PlayFabJson.readString(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class ListContainerImagesResponseAdapter extends TypeAdapter<ListContainerImagesResponse> {
+        private final TypeAdapter<String> stringAdapter;
+
+        private ListContainerImagesResponseAdapter(Gson gson) {
+            stringAdapter = gson.getAdapter(String.class);
+        }
+
+        @Override
+        public void write(JsonWriter out, ListContainerImagesResponse value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            PlayFabJson.writeList(out.name("Images"), value.Images, stringAdapter);
+            out.name("PageSize").value(value.PageSize);
+            out.name("SkipToken").value(value.SkipToken);
+            out.endObject();
+        }
+
+        @Override
+        public ListContainerImagesResponse read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            ListContainerImagesResponse value = new ListContainerImagesResponse();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "Images": value.Images = PlayFabJson.readList(in, stringAdapter); break;
+                        case "PageSize": value.PageSize = PlayFabJson.readInteger(in); break;
+                        case "SkipToken": value.SkipToken = PlayFabJson.readString(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class ListContainerImageTagsRequestAdapter extends TypeAdapter<ListContainerImageTagsRequest> {
+        private final TypeAdapter<String> stringAdapter;
+
+        private ListContainerImageTagsRequestAdapter(Gson gson) {
+            stringAdapter = gson.getAdapter(String.class);
+        }
+
+        @Override
+        public void write(JsonWriter out, ListContainerImageTagsRequest value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            PlayFabJson.writeMap(out.name("CustomTags"), value.CustomTags, stringAdapter);
+            out.name("ImageName").value(value.ImageName);
+            out.endObject();
+        }
+
+        @Override
+        public ListContainerImageTagsRequest read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            ListContainerImageTagsRequest value = new ListContainerImageTagsRequest();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "CustomTags": value.CustomTags = PlayFabJson.readMap(in, stringAdapter); break;
+                        case "ImageName": value.ImageName = PlayFabJson.readString(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class ListContainerImageTagsResponseAdapter extends TypeAdapter<ListContainerImageTagsResponse> {
+        private final TypeAdapter<String> stringAdapter;
+
+        private ListContainerImageTagsResponseAdapter(Gson gson) {
+            stringAdapter = gson.getAdapter(String.class);
+        }
+
+        @Override
+        public void write(JsonWriter out, ListContainerImageTagsResponse value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            PlayFabJson.writeList(out.name("Tags"), value.Tags, stringAdapter);
+            out.endObject();
+        }
+
+        @Override
+        public ListContainerImageTagsResponse read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            ListContainerImageTagsResponse value = new ListContainerImageTagsResponse();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "Tags": value.Tags = PlayFabJson.readList(in, stringAdapter); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class ListMatchmakingTicketsForPlayerRequestAdapter extends TypeAdapter<ListMatchmakingTicketsForPlayerRequest> {
+        private final TypeAdapter<String> stringAdapter;
+        private final TypeAdapter<EntityKey> entityKeyAdapter;
+
+        private ListMatchmakingTicketsForPlayerRequestAdapter(Gson gson) {
+            stringAdapter = gson.getAdapter(String.class);
+            entityKeyAdapter = gson.getAdapter(EntityKey.class);
+        }
+
+        @Override
+        public void write(JsonWriter out, ListMatchmakingTicketsForPlayerRequest value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            PlayFabJson.writeMap(out.name("CustomTags"), value.CustomTags, stringAdapter);
+            entityKeyAdapter.write(out.name("Entity"), value.Entity);
+            out.name("QueueName").value(value.QueueName);
+            out.endObject();
+        }
+
+        @Override
+        public ListMatchmakingTicketsForPlayerRequest read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            ListMatchmakingTicketsForPlayerRequest value = new ListMatchmakingTicketsForPlayerRequest();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "CustomTags": value.CustomTags = PlayFabJson.readMap(in, stringAdapter); break;
+                        case "Entity": value.Entity = entityKeyAdapter.read(in); break;
+                        case "QueueName": value.QueueName = PlayFabJson.readString(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class ListMatchmakingTicketsForPlayerResultAdapter extends TypeAdapter<ListMatchmakingTicketsForPlayerResult> {
+        private final TypeAdapter<String> stringAdapter;
+
+        private ListMatchmakingTicketsForPlayerResultAdapter(Gson gson) {
+            stringAdapter = gson.getAdapter(String.class);
+        }
+
+        @Override
+        public void write(JsonWriter out, ListMatchmakingTicketsForPlayerResult value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            PlayFabJson.writeList(out.name("TicketIds"), value.TicketIds, stringAdapter);
+            out.endObject();
+        }
+
+        @Override
+        public ListMatchmakingTicketsForPlayerResult read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            ListMatchmakingTicketsForPlayerResult value = new ListMatchmakingTicketsForPlayerResult();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "TicketIds": value.TicketIds = PlayFabJson.readList(in, stringAdapter); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class ListMultiplayerServersRequestAdapter extends TypeAdapter<ListMultiplayerServersRequest> {
+        private final TypeAdapter<String> stringAdapter;
+
+        private ListMultiplayerServersRequestAdapter(Gson gson) {
+            stringAdapter = gson.getAdapter(String.class);
+        }
+
+        @Override
+        public void write(JsonWriter out, ListMultiplayerServersRequest value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.name("BuildId").value(value.BuildId);
+            PlayFabJson.writeMap(out.name("CustomTags"), value.CustomTags, stringAdapter);
+            out.name("PageSize").value(value.PageSize);
+            out.name("Region").value(value.Region);
+            out.name("SkipToken").value(value.SkipToken);
+            out.endObject();
+        }
+
+        @Override
+        public ListMultiplayerServersRequest read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            ListMultiplayerServersRequest value = new ListMultiplayerServersRequest();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "BuildId": value.BuildId = PlayFabJson.readString(in); break;
+                        case "CustomTags": value.CustomTags = PlayFabJson.readMap(in, stringAdapter); break;
+                        case "PageSize": value.PageSize = PlayFabJson.readInteger(in); break;
+                        case "Region": value.Region = PlayFabJson.readString(in); break;
+                        case "SkipToken": value.SkipToken = PlayFabJson.readString(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class ListMultiplayerServersResponseAdapter extends TypeAdapter<ListMultiplayerServersResponse> {
+        private final TypeAdapter<MultiplayerServerSummary> multiplayerServerSummaryAdapter;
+
+        private ListMultiplayerServersResponseAdapter(Gson gson) {
+            multiplayerServerSummaryAdapter = gson.getAdapter(MultiplayerServerSummary.class);
+        }
+
+        @Override
+        public void write(JsonWriter out, ListMultiplayerServersResponse value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            PlayFabJson.writeList(out.name("MultiplayerServerSummaries"), value.MultiplayerServerSummaries, multiplayerServerSummaryAdapter);
+            out.name("PageSize").value(value.PageSize);
+            out.name("SkipToken").value(value.SkipToken);
+            out.endObject();
+        }
+
+        @Override
+        public ListMultiplayerServersResponse read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            ListMultiplayerServersResponse value = new ListMultiplayerServersResponse();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "MultiplayerServerSummaries": value.MultiplayerServerSummaries = PlayFabJson.readList(in, multiplayerServerSummaryAdapter); break;
+                        case "PageSize": value.PageSize = PlayFabJson.readInteger(in); break;
+                        case "SkipToken": value.SkipToken = PlayFabJson.readString(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class ListPartyQosServersRequestAdapter extends TypeAdapter<ListPartyQosServersRequest> {
+        private final TypeAdapter<String> stringAdapter;
+
+        private ListPartyQosServersRequestAdapter(Gson gson) {
+            stringAdapter = gson.getAdapter(String.class);
+        }
+
+        @Override
+        public void write(JsonWriter out, ListPartyQosServersRequest value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            PlayFabJson.writeMap(out.name("CustomTags"), value.CustomTags, stringAdapter);
+            out.endObject();
+        }
+
+        @Override
+        public ListPartyQosServersRequest read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            ListPartyQosServersRequest value = new ListPartyQosServersRequest();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "CustomTags": value.CustomTags = PlayFabJson.readMap(in, stringAdapter); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class ListPartyQosServersResponseAdapter extends TypeAdapter<ListPartyQosServersResponse> {
+        private final TypeAdapter<QosServer> qosServerAdapter;
+
+        private ListPartyQosServersResponseAdapter(Gson gson) {
+            qosServerAdapter = gson.getAdapter(QosServer.class);
+        }
+
+        @Override
+        public void write(JsonWriter out, ListPartyQosServersResponse value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.name("PageSize").value(value.PageSize);
+            PlayFabJson.writeList(out.name("QosServers"), value.QosServers, qosServerAdapter);
+            out.name("SkipToken").value(value.SkipToken);
+            out.endObject();
+        }
+
+        @Override
+        public ListPartyQosServersResponse read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            ListPartyQosServersResponse value = new ListPartyQosServersResponse();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "PageSize": value.PageSize = PlayFabJson.readInteger(in); break;
+                        case "QosServers": value.QosServers = PlayFabJson.readList(in, qosServerAdapter); break;
+                        case "SkipToken": value.SkipToken = PlayFabJson.readString(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class ListQosServersForTitleRequestAdapter extends TypeAdapter<ListQosServersForTitleRequest> {
+        private final TypeAdapter<String> stringAdapter;
+
+        private ListQosServersForTitleRequestAdapter(Gson gson) {
+            stringAdapter = gson.getAdapter(String.class);
+        }
+
+        @Override
+        public void write(JsonWriter out, ListQosServersForTitleRequest value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            PlayFabJson.writeMap(out.name("CustomTags"), value.CustomTags, stringAdapter);
+            out.name("IncludeAllRegions").value(value.IncludeAllRegions);
+            out.endObject();
+        }
+
+        @Override
+        public ListQosServersForTitleRequest read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            ListQosServersForTitleRequest value = new ListQosServersForTitleRequest();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "CustomTags": value.CustomTags = PlayFabJson.readMap(in, stringAdapter); break;
+                        case "IncludeAllRegions": value.IncludeAllRegions = PlayFabJson.readBoolean(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class ListQosServersForTitleResponseAdapter extends TypeAdapter<ListQosServersForTitleResponse> {
+        private final TypeAdapter<QosServer> qosServerAdapter;
+
+        private ListQosServersForTitleResponseAdapter(Gson gson) {
+            qosServerAdapter = gson.getAdapter(QosServer.class);
+        }
+
+        @Override
+        public void write(JsonWriter out, ListQosServersForTitleResponse value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.name("PageSize").value(value.PageSize);
+            PlayFabJson.writeList(out.name("QosServers"), value.QosServers, qosServerAdapter);
+            out.name("SkipToken").value(value.SkipToken);
+            out.endObject();
+        }
+
+        @Override
+        public ListQosServersForTitleResponse read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            ListQosServersForTitleResponse value = new ListQosServersForTitleResponse();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "PageSize": value.PageSize = PlayFabJson.readInteger(in); break;
+                        case "QosServers": value.QosServers = PlayFabJson.readList(in, qosServerAdapter); break;
+                        case "SkipToken": value.SkipToken = PlayFabJson.readString(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class ListServerBackfillTicketsForPlayerRequestAdapter extends TypeAdapter<ListServerBackfillTicketsForPlayerRequest> {
+        private final TypeAdapter<String> stringAdapter;
+        private final TypeAdapter<EntityKey> entityKeyAdapter;
+
+        private ListServerBackfillTicketsForPlayerRequestAdapter(Gson gson) {
+            stringAdapter = gson.getAdapter(String.class);
+            entityKeyAdapter = gson.getAdapter(EntityKey.class);
+        }
+
+        @Override
+        public void write(JsonWriter out, ListServerBackfillTicketsForPlayerRequest value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            PlayFabJson.writeMap(out.name("CustomTags"), value.CustomTags, stringAdapter);
+            entityKeyAdapter.write(out.name("Entity"), value.Entity);
+            out.name("QueueName").value(value.QueueName);
+            out.endObject();
+        }
+
+        @Override
+        public ListServerBackfillTicketsForPlayerRequest read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            ListServerBackfillTicketsForPlayerRequest value = new ListServerBackfillTicketsForPlayerRequest();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "CustomTags": value.CustomTags = PlayFabJson.readMap(in, stringAdapter); break;
+                        case "Entity": value.Entity = entityKeyAdapter.read(in); break;
+                        case "QueueName": value.QueueName = PlayFabJson.readString(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class ListServerBackfillTicketsForPlayerResultAdapter extends TypeAdapter<ListServerBackfillTicketsForPlayerResult> {
+        private final TypeAdapter<String> stringAdapter;
+
+        private ListServerBackfillTicketsForPlayerResultAdapter(Gson gson) {
+            stringAdapter = gson.getAdapter(String.class);
+        }
+
+        @Override
+        public void write(JsonWriter out, ListServerBackfillTicketsForPlayerResult value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            PlayFabJson.writeList(out.name("TicketIds"), value.TicketIds, stringAdapter);
+            out.endObject();
+        }
+
+        @Override
+        public ListServerBackfillTicketsForPlayerResult read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            ListServerBackfillTicketsForPlayerResult value = new ListServerBackfillTicketsForPlayerResult();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "TicketIds": value.TicketIds = PlayFabJson.readList(in, stringAdapter); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class ListTitleMultiplayerServersQuotaChangesRequestAdapter extends TypeAdapter<ListTitleMultiplayerServersQuotaChangesRequest> {
+        private final TypeAdapter<String> stringAdapter;
+
+        private ListTitleMultiplayerServersQuotaChangesRequestAdapter(Gson gson) {
+            stringAdapter = gson.getAdapter(String.class);
+        }
+
+        @Override
+        public void write(JsonWriter out, ListTitleMultiplayerServersQuotaChangesRequest value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            PlayFabJson.writeMap(out.name("CustomTags"), value.CustomTags, stringAdapter);
+            out.endObject();
+        }
+
+        @Override
+        public ListTitleMultiplayerServersQuotaChangesRequest read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            ListTitleMultiplayerServersQuotaChangesRequest value = new ListTitleMultiplayerServersQuotaChangesRequest();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "CustomTags": value.CustomTags = PlayFabJson.readMap(in, stringAdapter); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class ListTitleMultiplayerServersQuotaChangesResponseAdapter extends TypeAdapter<ListTitleMultiplayerServersQuotaChangesResponse> {
+        private final TypeAdapter<QuotaChange> quotaChangeAdapter;
+
+        private ListTitleMultiplayerServersQuotaChangesResponseAdapter(Gson gson) {
+            quotaChangeAdapter = gson.getAdapter(QuotaChange.class);
+        }
+
+        @Override
+        public void write(JsonWriter out, ListTitleMultiplayerServersQuotaChangesResponse value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            PlayFabJson.writeList(out.name("Changes"), value.Changes, quotaChangeAdapter);
+            out.endObject();
+        }
+
+        @Override
+        public ListTitleMultiplayerServersQuotaChangesResponse read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            ListTitleMultiplayerServersQuotaChangesResponse value = new ListTitleMultiplayerServersQuotaChangesResponse();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "Changes": value.Changes = PlayFabJson.readList(in, quotaChangeAdapter); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class ListVirtualMachineSummariesRequestAdapter extends TypeAdapter<ListVirtualMachineSummariesRequest> {
+        private final TypeAdapter<String> stringAdapter;
+
+        private ListVirtualMachineSummariesRequestAdapter(Gson gson) {
+            stringAdapter = gson.getAdapter(String.class);
+        }
+
+        @Override
+        public void write(JsonWriter out, ListVirtualMachineSummariesRequest value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.name("BuildId").value(value.BuildId);
+            PlayFabJson.writeMap(out.name("CustomTags"), value.CustomTags, stringAdapter);
+            out.name("PageSize").value(value.PageSize);
+            out.name("Region").value(value.Region);
+            out.name("SkipToken").value(value.SkipToken);
+            out.endObject();
+        }
+
+        @Override
+        public ListVirtualMachineSummariesRequest read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            ListVirtualMachineSummariesRequest value = new ListVirtualMachineSummariesRequest();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "BuildId": value.BuildId = PlayFabJson.readString(in); break;
+                        case "CustomTags": value.CustomTags = PlayFabJson.readMap(in, stringAdapter); break;
+                        case "PageSize": value.PageSize = PlayFabJson.readInteger(in); break;
+                        case "Region": value.Region = PlayFabJson.readString(in); break;
+                        case "SkipToken": value.SkipToken = PlayFabJson.readString(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class ListVirtualMachineSummariesResponseAdapter extends TypeAdapter<ListVirtualMachineSummariesResponse> {
+        private final TypeAdapter<VirtualMachineSummary> virtualMachineSummaryAdapter;
+
+        private ListVirtualMachineSummariesResponseAdapter(Gson gson) {
+            virtualMachineSummaryAdapter = gson.getAdapter(VirtualMachineSummary.class);
+        }
+
+        @Override
+        public void write(JsonWriter out, ListVirtualMachineSummariesResponse value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.name("PageSize").value(value.PageSize);
+            out.name("SkipToken").value(value.SkipToken);
+            PlayFabJson.writeList(out.name("VirtualMachines"), value.VirtualMachines, virtualMachineSummaryAdapter);
+            out.endObject();
+        }
+
+        @Override
+        public ListVirtualMachineSummariesResponse read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            ListVirtualMachineSummariesResponse value = new ListVirtualMachineSummariesResponse();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "PageSize": value.PageSize = PlayFabJson.readInteger(in); break;
+                        case "SkipToken": value.SkipToken = PlayFabJson.readString(in); break;
+                        case "VirtualMachines": value.VirtualMachines = PlayFabJson.readList(in, virtualMachineSummaryAdapter); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class MatchmakingPlayerAdapter extends TypeAdapter<MatchmakingPlayer> {
+        private final TypeAdapter<MatchmakingPlayerAttributes> matchmakingPlayerAttributesAdapter;
+        private final TypeAdapter<EntityKey> entityKeyAdapter;
+
+        private MatchmakingPlayerAdapter(Gson gson) {
+            matchmakingPlayerAttributesAdapter = gson.getAdapter(MatchmakingPlayerAttributes.class);
+            entityKeyAdapter = gson.getAdapter(EntityKey.class);
+        }
+
+        @Override
+        public void write(JsonWriter out, MatchmakingPlayer value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            matchmakingPlayerAttributesAdapter.write(out.name("Attributes"), value.Attributes);
+            entityKeyAdapter.write(out.name("Entity"), value.Entity);
+            out.endObject();
+        }
+
+        @Override
+        public MatchmakingPlayer read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            MatchmakingPlayer value = new MatchmakingPlayer();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "Attributes": value.Attributes = matchmakingPlayerAttributesAdapter.read(in); break;
+                        case "Entity": value.Entity = entityKeyAdapter.read(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class MatchmakingPlayerAttributesAdapter extends TypeAdapter<MatchmakingPlayerAttributes> {
+        private final TypeAdapter<Object> objectAdapter;
+
+        private MatchmakingPlayerAttributesAdapter(Gson gson) {
+            objectAdapter = gson.getAdapter(Object.class);
+        }
+
+        @Override
+        public void write(JsonWriter out, MatchmakingPlayerAttributes value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            objectAdapter.write(out.name("DataObject"), value.DataObject);
+            out.name("EscapedDataObject").value(value.EscapedDataObject);
+            out.endObject();
+        }
+
+        @Override
+        public MatchmakingPlayerAttributes read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            MatchmakingPlayerAttributes value = new MatchmakingPlayerAttributes();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "DataObject": value.DataObject = objectAdapter.read(in); break;
+                        case "EscapedDataObject": value.EscapedDataObject = PlayFabJson.readString(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class MatchmakingPlayerWithTeamAssignmentAdapter extends TypeAdapter<MatchmakingPlayerWithTeamAssignment> {
+        private final TypeAdapter<MatchmakingPlayerAttributes> matchmakingPlayerAttributesAdapter;
+        private final TypeAdapter<EntityKey> entityKeyAdapter;
+
+        private MatchmakingPlayerWithTeamAssignmentAdapter(Gson gson) {
+            matchmakingPlayerAttributesAdapter = gson.getAdapter(MatchmakingPlayerAttributes.class);
+            entityKeyAdapter = gson.getAdapter(EntityKey.class);
+        }
+
+        @Override
+        public void write(JsonWriter out, MatchmakingPlayerWithTeamAssignment value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            matchmakingPlayerAttributesAdapter.write(out.name("Attributes"), value.Attributes);
+            entityKeyAdapter.write(out.name("Entity"), value.Entity);
+            out.name("TeamId").value(value.TeamId);
+            out.endObject();
+        }
+
+        @Override
+        public MatchmakingPlayerWithTeamAssignment read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            MatchmakingPlayerWithTeamAssignment value = new MatchmakingPlayerWithTeamAssignment();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "Attributes": value.Attributes = matchmakingPlayerAttributesAdapter.read(in); break;
+                        case "Entity": value.Entity = entityKeyAdapter.read(in); break;
+                        case "TeamId": value.TeamId = PlayFabJson.readString(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class MultiplayerServerSummaryAdapter extends TypeAdapter<MultiplayerServerSummary> {
+        private final TypeAdapter<ConnectedPlayer> connectedPlayerAdapter;
+        private final TypeAdapter<Date> dateAdapter;
+
+        private MultiplayerServerSummaryAdapter(Gson gson) {
+            connectedPlayerAdapter = gson.getAdapter(ConnectedPlayer.class);
+            dateAdapter = gson.getAdapter(Date.class);
+        }
+
+        @Override
+        public void write(JsonWriter out, MultiplayerServerSummary value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            PlayFabJson.writeList(out.name("ConnectedPlayers"), value.ConnectedPlayers, connectedPlayerAdapter);
+            dateAdapter.write(out.name("LastStateTransitionTime"), value.LastStateTransitionTime);
+            out.name("Region").value(value.Region);
+            out.name("ServerId").value(value.ServerId);
+            out.name("SessionId").value(value.SessionId);
+            out.name("State").value(value.State);
+            out.name("VmId").value(value.VmId);
+            out.endObject();
+        }
+
+        @Override
+        public MultiplayerServerSummary read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            MultiplayerServerSummary value = new MultiplayerServerSummary();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "ConnectedPlayers": value.ConnectedPlayers = PlayFabJson.readList(in, connectedPlayerAdapter); break;
+                        case "LastStateTransitionTime": value.LastStateTransitionTime = dateAdapter.read(in); break;
+                        case "Region": value.Region = PlayFabJson.readString(in); break;
+                        case "ServerId": value.ServerId = PlayFabJson.readString(in); break;
+                        case "SessionId": value.SessionId = PlayFabJson.readString(in); break;
+                        case "State": value.State = PlayFabJson.readString(in); break;
+                        case "VmId": value.VmId = PlayFabJson.readString(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class PortAdapter extends TypeAdapter<Port> {
+        private final TypeAdapter<ProtocolType> protocolTypeAdapter;
+
+        private PortAdapter(Gson gson) {
+            protocolTypeAdapter = gson.getAdapter(ProtocolType.class);
+        }
+
+        @Override
+        public void write(JsonWriter out, Port value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.name("Name").value(value.Name);
+            out.name("Num").value(value.Num);
+            protocolTypeAdapter.write(out.name("Protocol"), value.Protocol);
+            out.endObject();
+        }
+
+        @Override
+        public Port read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            Port value = new Port();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "Name": value.Name = PlayFabJson.readString(in); break;
+                        case "Num": value.Num = PlayFabJson.readInteger(in); break;
+                        case "Protocol": value.Protocol = protocolTypeAdapter.read(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class QosServerAdapter extends TypeAdapter<QosServer> {
+        private QosServerAdapter(Gson gson) {
+        }
+
+        @Override
+        public void write(JsonWriter out, QosServer value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.name("Region").value(value.Region);
+            out.name("ServerUrl").value(value.ServerUrl);
+            out.endObject();
+        }
+
+        @Override
+        public QosServer read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            QosServer value = new QosServer();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "Region": value.Region = PlayFabJson.readString(in); break;
+                        case "ServerUrl": value.ServerUrl = PlayFabJson.readString(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class QuotaChangeAdapter extends TypeAdapter<QuotaChange> {
+        private final TypeAdapter<CoreCapacityChange> coreCapacityChangeAdapter;
+
+        private QuotaChangeAdapter(Gson gson) {
+            coreCapacityChangeAdapter = gson.getAdapter(CoreCapacityChange.class);
+        }
+
+        @Override
+        public void write(JsonWriter out, QuotaChange value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.name("ChangeDescription").value(value.ChangeDescription);
+            PlayFabJson.writeList(out.name("Changes"), value.Changes, coreCapacityChangeAdapter);
+            out.name("IsPendingReview").value(value.IsPendingReview);
+            out.name("Notes").value(value.Notes);
+            out.name("RequestId").value(value.RequestId);
+            out.name("ReviewComments").value(value.ReviewComments);
+            out.name("WasApproved").value(value.WasApproved);
+            out.endObject();
+        }
+
+        @Override
+        public QuotaChange read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            QuotaChange value = new QuotaChange();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "ChangeDescription": value.ChangeDescription = PlayFabJson.readString(in); break;
+                        case "Changes": value.Changes = PlayFabJson.readList(in, coreCapacityChangeAdapter); break;
+                        case "IsPendingReview": value.IsPendingReview = PlayFabJson.readBoolean(in); break;
+                        case "Notes": value.Notes = PlayFabJson.readString(in); break;
+                        case "RequestId": value.RequestId = PlayFabJson.readString(in); break;
+                        case "ReviewComments": value.ReviewComments = PlayFabJson.readString(in); break;
+                        case "WasApproved": value.WasApproved = PlayFabJson.readBoolean(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class RequestMultiplayerServerRequestAdapter extends TypeAdapter<RequestMultiplayerServerRequest> {
+        private final TypeAdapter<BuildAliasParams> buildAliasParamsAdapter;
+        private final TypeAdapter<String> stringAdapter;
+
+        private RequestMultiplayerServerRequestAdapter(Gson gson) {
+            buildAliasParamsAdapter = gson.getAdapter(BuildAliasParams.class);
+            stringAdapter = gson.getAdapter(String.class);
+        }
+
+        @Override
+        public void write(JsonWriter out, RequestMultiplayerServerRequest value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            buildAliasParamsAdapter.write(out.name("BuildAliasParams"), value.BuildAliasParams);
+            out.name("BuildId").value(value.BuildId);
+            PlayFabJson.writeMap(out.name("CustomTags"), value.CustomTags, stringAdapter);
+            PlayFabJson.writeList(out.name("InitialPlayers"), value.InitialPlayers, stringAdapter);
+            PlayFabJson.writeList(out.name("PreferredRegions"), value.PreferredRegions, stringAdapter);
+            out.name("SessionCookie").value(value.SessionCookie);
+            out.name("SessionId").value(value.SessionId);
+            out.endObject();
+        }
+
+        @Override
+        public RequestMultiplayerServerRequest read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            RequestMultiplayerServerRequest value = new RequestMultiplayerServerRequest();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "BuildAliasParams": value.BuildAliasParams = buildAliasParamsAdapter.read(in); break;
+                        case "BuildId": value.BuildId = PlayFabJson.readString(in); break;
+                        case "CustomTags": value.CustomTags = PlayFabJson.readMap(in, stringAdapter); break;
+                        case "InitialPlayers": value.InitialPlayers = PlayFabJson.readList(in, stringAdapter); break;
+                        case "PreferredRegions": value.PreferredRegions = PlayFabJson.readList(in, stringAdapter); break;
+                        case "SessionCookie": value.SessionCookie = PlayFabJson.readString(in); break;
+                        case "SessionId": value.SessionId = PlayFabJson.readString(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class RequestMultiplayerServerResponseAdapter extends TypeAdapter<RequestMultiplayerServerResponse> {
+        private final TypeAdapter<ConnectedPlayer> connectedPlayerAdapter;
+        private final TypeAdapter<Date> dateAdapter;
+        private final TypeAdapter<Port> portAdapter;
+
+        private RequestMultiplayerServerResponseAdapter(Gson gson) {
+            connectedPlayerAdapter = gson.getAdapter(ConnectedPlayer.class);
+            dateAdapter = gson.getAdapter(Date.class);
+            portAdapter = gson.getAdapter(Port.class);
+        }
+
+        @Override
+        public void write(JsonWriter out, RequestMultiplayerServerResponse value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.name("BuildId").value(value.BuildId);
+            PlayFabJson.writeList(out.name("ConnectedPlayers"), value.ConnectedPlayers, connectedPlayerAdapter);
+            out.name("FQDN").value(value.FQDN);
+            out.name("IPV4Address").value(value.IPV4Address);
+            dateAdapter.write(out.name("LastStateTransitionTime"), value.LastStateTransitionTime);
+            PlayFabJson.writeList(out.name("Ports"), value.Ports, portAdapter);
+            out.name("Region").value(value.Region);
+            out.name("ServerId").value(value.ServerId);
+            out.name("SessionId").value(value.SessionId);
+            out.name("State").value(value.State);
+            out.name("VmId").value(value.VmId);
+            out.endObject();
+        }
+
+        @Override
+        public RequestMultiplayerServerResponse read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            RequestMultiplayerServerResponse value = new RequestMultiplayerServerResponse();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "BuildId": value.BuildId = PlayFabJson.readString(in); break;
+                        case "ConnectedPlayers": value.ConnectedPlayers = PlayFabJson.readList(in, connectedPlayerAdapter); break;
+                        case "FQDN": value.FQDN = PlayFabJson.readString(in); break;
+                        case "IPV4Address": value.IPV4Address = PlayFabJson.readString(in); break;
+                        case "LastStateTransitionTime": value.LastStateTransitionTime = dateAdapter.read(in); break;
+                        case "Ports": value.Ports = PlayFabJson.readList(in, portAdapter); break;
+                        case "Region": value.Region = PlayFabJson.readString(in); break;
+                        case "ServerId": value.ServerId = PlayFabJson.readString(in); break;
+                        case "SessionId": value.SessionId = PlayFabJson.readString(in); break;
+                        case "State": value.State = PlayFabJson.readString(in); break;
+                        case "VmId": value.VmId = PlayFabJson.readString(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class RolloverContainerRegistryCredentialsRequestAdapter extends TypeAdapter<RolloverContainerRegistryCredentialsRequest> {
+        private final TypeAdapter<String> stringAdapter;
+
+        private RolloverContainerRegistryCredentialsRequestAdapter(Gson gson) {
+            stringAdapter = gson.getAdapter(String.class);
+        }
+
+        @Override
+        public void write(JsonWriter out, RolloverContainerRegistryCredentialsRequest value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            PlayFabJson.writeMap(out.name("CustomTags"), value.CustomTags, stringAdapter);
+            out.endObject();
+        }
+
+        @Override
+        public RolloverContainerRegistryCredentialsRequest read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            RolloverContainerRegistryCredentialsRequest value = new RolloverContainerRegistryCredentialsRequest();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "CustomTags": value.CustomTags = PlayFabJson.readMap(in, stringAdapter); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class RolloverContainerRegistryCredentialsResponseAdapter extends TypeAdapter<RolloverContainerRegistryCredentialsResponse> {
+        private RolloverContainerRegistryCredentialsResponseAdapter(Gson gson) {
+        }
+
+        @Override
+        public void write(JsonWriter out, RolloverContainerRegistryCredentialsResponse value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.name("DnsName").value(value.DnsName);
+            out.name("Password").value(value.Password);
+            out.name("Username").value(value.Username);
+            out.endObject();
+        }
+
+        @Override
+        public RolloverContainerRegistryCredentialsResponse read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            RolloverContainerRegistryCredentialsResponse value = new RolloverContainerRegistryCredentialsResponse();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "DnsName": value.DnsName = PlayFabJson.readString(in); break;
+                        case "Password": value.Password = PlayFabJson.readString(in); break;
+                        case "Username": value.Username = PlayFabJson.readString(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class ScheduleAdapter extends TypeAdapter<Schedule> {
+        private final TypeAdapter<Date> dateAdapter;
+
+        private ScheduleAdapter(Gson gson) {
+            dateAdapter = gson.getAdapter(Date.class);
+        }
+
+        @Override
+        public void write(JsonWriter out, Schedule value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.name("Description").value(value.Description);
+            dateAdapter.write(out.name("EndTime"), value.EndTime);
+            out.name("IsDisabled").value(value.IsDisabled);
+            out.name("IsRecurringWeekly").value(value.IsRecurringWeekly);
+            dateAdapter.write(out.name("StartTime"), value.StartTime);
+            out.name("TargetStandby").value(value.TargetStandby);
+            out.endObject();
+        }
+
+        @Override
+        public Schedule read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            Schedule value = new Schedule();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "Description": value.Description = PlayFabJson.readString(in); break;
+                        case "EndTime": value.EndTime = dateAdapter.read(in); break;
+                        case "IsDisabled": value.IsDisabled = PlayFabJson.readBoolean(in); break;
+                        case "IsRecurringWeekly": value.IsRecurringWeekly = PlayFabJson.readBoolean(in); break;
+                        case "StartTime": value.StartTime = dateAdapter.read(in); break;
+                        case "TargetStandby": value.TargetStandby = PlayFabJson.readInteger(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class ScheduledStandbySettingsAdapter extends TypeAdapter<ScheduledStandbySettings> {
+        private final TypeAdapter<Schedule> scheduleAdapter;
+
+        private ScheduledStandbySettingsAdapter(Gson gson) {
+            scheduleAdapter = gson.getAdapter(Schedule.class);
+        }
+
+        @Override
+        public void write(JsonWriter out, ScheduledStandbySettings value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.name("IsEnabled").value(value.IsEnabled);
+            PlayFabJson.writeList(out.name("ScheduleList"), value.ScheduleList, scheduleAdapter);
+            out.endObject();
+        }
+
+        @Override
+        public ScheduledStandbySettings read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            ScheduledStandbySettings value = new ScheduledStandbySettings();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "IsEnabled": value.IsEnabled = PlayFabJson.readBoolean(in); break;
+                        case "ScheduleList": value.ScheduleList = PlayFabJson.readList(in, scheduleAdapter); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class ServerDetailsAdapter extends TypeAdapter<ServerDetails> {
+        private final TypeAdapter<Port> portAdapter;
+
+        private ServerDetailsAdapter(Gson gson) {
+            portAdapter = gson.getAdapter(Port.class);
+        }
+
+        @Override
+        public void write(JsonWriter out, ServerDetails value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.name("Fqdn").value(value.Fqdn);
+            out.name("IPV4Address").value(value.IPV4Address);
+            PlayFabJson.writeList(out.name("Ports"), value.Ports, portAdapter);
+            out.name("Region").value(value.Region);
+            out.endObject();
+        }
+
+        @Override
+        public ServerDetails read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            ServerDetails value = new ServerDetails();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "Fqdn": value.Fqdn = PlayFabJson.readString(in); break;
+                        case "IPV4Address": value.IPV4Address = PlayFabJson.readString(in); break;
+                        case "Ports": value.Ports = PlayFabJson.readList(in, portAdapter); break;
+                        case "Region": value.Region = PlayFabJson.readString(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class ShutdownMultiplayerServerRequestAdapter extends TypeAdapter<ShutdownMultiplayerServerRequest> {
+        private final TypeAdapter<String> stringAdapter;
+
+        private ShutdownMultiplayerServerRequestAdapter(Gson gson) {
+            stringAdapter = gson.getAdapter(String.class);
+        }
+
+        @Override
+        public void write(JsonWriter out, ShutdownMultiplayerServerRequest value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            PlayFabJson.writeMap(out.name("CustomTags"), value.CustomTags, stringAdapter);
+            out.name("SessionId").value(value.SessionId);
+            out.endObject();
+        }
+
+        @Override
+        public ShutdownMultiplayerServerRequest read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            ShutdownMultiplayerServerRequest value = new ShutdownMultiplayerServerRequest();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "CustomTags": value.CustomTags = PlayFabJson.readMap(in, stringAdapter); break;
+                        case "SessionId": value.SessionId = PlayFabJson.readString(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class StatisticsAdapter extends TypeAdapter<Statistics> {
+        private final TypeAdapter<Double> doubleAdapter;
+
+        private StatisticsAdapter(Gson gson) {
+            doubleAdapter = gson.getAdapter(Double.class);
+        }
+
+        @Override
+        public void write(JsonWriter out, Statistics value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            doubleAdapter.write(out.name("Average"), value.Average);
+            doubleAdapter.write(out.name("Percentile50"), value.Percentile50);
+            doubleAdapter.write(out.name("Percentile90"), value.Percentile90);
+            doubleAdapter.write(out.name("Percentile99"), value.Percentile99);
+            out.endObject();
+        }
+
+        @Override
+        public Statistics read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            Statistics value = new Statistics();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "Average": value.Average = doubleAdapter.read(in); break;
+                        case "Percentile50": value.Percentile50 = doubleAdapter.read(in); break;
+                        case "Percentile90": value.Percentile90 = doubleAdapter.read(in); break;
+                        case "Percentile99": value.Percentile99 = doubleAdapter.read(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class TitleMultiplayerServersQuotasAdapter extends TypeAdapter<TitleMultiplayerServersQuotas> {
+        private final TypeAdapter<CoreCapacity> coreCapacityAdapter;
+
+        private TitleMultiplayerServersQuotasAdapter(Gson gson) {
+            coreCapacityAdapter = gson.getAdapter(CoreCapacity.class);
+        }
+
+        @Override
+        public void write(JsonWriter out, TitleMultiplayerServersQuotas value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            PlayFabJson.writeList(out.name("CoreCapacities"), value.CoreCapacities, coreCapacityAdapter);
+            out.endObject();
+        }
+
+        @Override
+        public TitleMultiplayerServersQuotas read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            TitleMultiplayerServersQuotas value = new TitleMultiplayerServersQuotas();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "CoreCapacities": value.CoreCapacities = PlayFabJson.readList(in, coreCapacityAdapter); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class UntagContainerImageRequestAdapter extends TypeAdapter<UntagContainerImageRequest> {
+        private final TypeAdapter<String> stringAdapter;
+
+        private UntagContainerImageRequestAdapter(Gson gson) {
+            stringAdapter = gson.getAdapter(String.class);
+        }
+
+        @Override
+        public void write(JsonWriter out, UntagContainerImageRequest value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            PlayFabJson.writeMap(out.name("CustomTags"), value.CustomTags, stringAdapter);
+            out.name("ImageName").value(value.ImageName);
+            out.name("Tag").value(value.Tag);
+            out.endObject();
+        }
+
+        @Override
+        public UntagContainerImageRequest read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            UntagContainerImageRequest value = new UntagContainerImageRequest();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "CustomTags": value.CustomTags = PlayFabJson.readMap(in, stringAdapter); break;
+                        case "ImageName": value.ImageName = PlayFabJson.readString(in); break;
+                        case "Tag": value.Tag = PlayFabJson.readString(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class UpdateBuildAliasRequestAdapter extends TypeAdapter<UpdateBuildAliasRequest> {
+        private final TypeAdapter<BuildSelectionCriterion> buildSelectionCriterionAdapter;
+        private final TypeAdapter<String> stringAdapter;
+
+        private UpdateBuildAliasRequestAdapter(Gson gson) {
+            buildSelectionCriterionAdapter = gson.getAdapter(BuildSelectionCriterion.class);
+            stringAdapter = gson.getAdapter(String.class);
+        }
+
+        @Override
+        public void write(JsonWriter out, UpdateBuildAliasRequest value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.name("AliasId").value(value.AliasId);
+            out.name("AliasName").value(value.AliasName);
+            PlayFabJson.writeList(out.name("BuildSelectionCriteria"), value.BuildSelectionCriteria, buildSelectionCriterionAdapter);
+            PlayFabJson.writeMap(out.name("CustomTags"), value.CustomTags, stringAdapter);
+            out.endObject();
+        }
+
+        @Override
+        public UpdateBuildAliasRequest read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            UpdateBuildAliasRequest value = new UpdateBuildAliasRequest();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "AliasId": value.AliasId = PlayFabJson.readString(in); break;
+                        case "AliasName": value.AliasName = PlayFabJson.readString(in); break;
+                        case "BuildSelectionCriteria": value.BuildSelectionCriteria = PlayFabJson.readList(in, buildSelectionCriterionAdapter); break;
+                        case "CustomTags": value.CustomTags = PlayFabJson.readMap(in, stringAdapter); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class UpdateBuildNameRequestAdapter extends TypeAdapter<UpdateBuildNameRequest> {
+        private final TypeAdapter<String> stringAdapter;
+
+        private UpdateBuildNameRequestAdapter(Gson gson) {
+            stringAdapter = gson.getAdapter(String.class);
+        }
+
+        @Override
+        public void write(JsonWriter out, UpdateBuildNameRequest value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.name("BuildId").value(value.BuildId);
+            out.name("BuildName").value(value.BuildName);
+            PlayFabJson.writeMap(out.name("CustomTags"), value.CustomTags, stringAdapter);
+            out.endObject();
+        }
+
+        @Override
+        public UpdateBuildNameRequest read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            UpdateBuildNameRequest value = new UpdateBuildNameRequest();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "BuildId": value.BuildId = PlayFabJson.readString(in); break;
+                        case "BuildName": value.BuildName = PlayFabJson.readString(in); break;
+                        case "CustomTags": value.CustomTags = PlayFabJson.readMap(in, stringAdapter); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class UpdateBuildRegionRequestAdapter extends TypeAdapter<UpdateBuildRegionRequest> {
+        private final TypeAdapter<BuildRegionParams> buildRegionParamsAdapter;
+        private final TypeAdapter<String> stringAdapter;
+
+        private UpdateBuildRegionRequestAdapter(Gson gson) {
+            buildRegionParamsAdapter = gson.getAdapter(BuildRegionParams.class);
+            stringAdapter = gson.getAdapter(String.class);
+        }
+
+        @Override
+        public void write(JsonWriter out, UpdateBuildRegionRequest value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.name("BuildId").value(value.BuildId);
+            buildRegionParamsAdapter.write(out.name("BuildRegion"), value.BuildRegion);
+            PlayFabJson.writeMap(out.name("CustomTags"), value.CustomTags, stringAdapter);
+            out.endObject();
+        }
+
+        @Override
+        public UpdateBuildRegionRequest read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            UpdateBuildRegionRequest value = new UpdateBuildRegionRequest();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "BuildId": value.BuildId = PlayFabJson.readString(in); break;
+                        case "BuildRegion": value.BuildRegion = buildRegionParamsAdapter.read(in); break;
+                        case "CustomTags": value.CustomTags = PlayFabJson.readMap(in, stringAdapter); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class UpdateBuildRegionsRequestAdapter extends TypeAdapter<UpdateBuildRegionsRequest> {
+        private final TypeAdapter<BuildRegionParams> buildRegionParamsAdapter;
+        private final TypeAdapter<String> stringAdapter;
+
+        private UpdateBuildRegionsRequestAdapter(Gson gson) {
+            buildRegionParamsAdapter = gson.getAdapter(BuildRegionParams.class);
+            stringAdapter = gson.getAdapter(String.class);
+        }
+
+        @Override
+        public void write(JsonWriter out, UpdateBuildRegionsRequest value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.name("BuildId").value(value.BuildId);
+            PlayFabJson.writeList(out.name("BuildRegions"), value.BuildRegions, buildRegionParamsAdapter);
+            PlayFabJson.writeMap(out.name("CustomTags"), value.CustomTags, stringAdapter);
+            out.endObject();
+        }
+
+        @Override
+        public UpdateBuildRegionsRequest read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            UpdateBuildRegionsRequest value = new UpdateBuildRegionsRequest();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "BuildId": value.BuildId = PlayFabJson.readString(in); break;
+                        case "BuildRegions": value.BuildRegions = PlayFabJson.readList(in, buildRegionParamsAdapter); break;
+                        case "CustomTags": value.CustomTags = PlayFabJson.readMap(in, stringAdapter); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class UploadCertificateRequestAdapter extends TypeAdapter<UploadCertificateRequest> {
+        private final TypeAdapter<String> stringAdapter;
+        private final TypeAdapter<Certificate> certificateAdapter;
+
+        private UploadCertificateRequestAdapter(Gson gson) {
+            stringAdapter = gson.getAdapter(String.class);
+            certificateAdapter = gson.getAdapter(Certificate.class);
+        }
+
+        @Override
+        public void write(JsonWriter out, UploadCertificateRequest value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            PlayFabJson.writeMap(out.name("CustomTags"), value.CustomTags, stringAdapter);
+            certificateAdapter.write(out.name("GameCertificate"), value.GameCertificate);
+            out.endObject();
+        }
+
+        @Override
+        public UploadCertificateRequest read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            UploadCertificateRequest value = new UploadCertificateRequest();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "CustomTags": value.CustomTags = PlayFabJson.readMap(in, stringAdapter); break;
+                        case "GameCertificate": value.GameCertificate = certificateAdapter.read(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class VirtualMachineSummaryAdapter extends TypeAdapter<VirtualMachineSummary> {
+        private VirtualMachineSummaryAdapter(Gson gson) {
+        }
+
+        @Override
+        public void write(JsonWriter out, VirtualMachineSummary value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.name("HealthStatus").value(value.HealthStatus);
+            out.name("State").value(value.State);
+            out.name("VmId").value(value.VmId);
+            out.endObject();
+        }
+
+        @Override
+        public VirtualMachineSummary read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            VirtualMachineSummary value = new VirtualMachineSummary();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "HealthStatus": value.HealthStatus = PlayFabJson.readString(in); break;
+                        case "State": value.State = PlayFabJson.readString(in); break;
+                        case "VmId": value.VmId = PlayFabJson.readString(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+}
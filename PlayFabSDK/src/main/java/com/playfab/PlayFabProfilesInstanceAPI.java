@@ -0,0 +1,233 @@
+package com.playfab;
+
+import com.playfab.internal.*;
+import com.playfab.PlayFabProfilesModels.*;
+import com.playfab.PlayFabErrors.*;
+import com.playfab.PlayFabSettings;
+import java.util.concurrent.*;
+import java.util.*;
+
+    /**
+     * The calls of PlayFabProfilesAPI, made with a PlayFabApiContext of this object's own instead of PlayFabSettings. Login
+     * and GetEntityToken calls keep the credentials they return in that context
+     */
+public class PlayFabProfilesInstanceAPI extends PlayFabInstanceAPI {
+    private final Async async = new Async();
+
+    public PlayFabProfilesInstanceAPI(PlayFabApiContext context) {
+        super(context);
+    }
+
+    /**
+     * Gets the global title access policy
+     * @param request GetGlobalPolicyRequest
+     * @return GetGlobalPolicyResponse
+     */
+    public PlayFabResult<GetGlobalPolicyResponse> GetGlobalPolicy(final GetGlobalPolicyRequest request) {
+        try {
+            return PlayFabProfilesAPI.privateGetGlobalPolicyAsync(this, request);
+        } catch(Exception e) {
+            PlayFabResult<GetGlobalPolicyResponse> exceptionResult = new PlayFabResult<GetGlobalPolicyResponse>();
+            exceptionResult.Error = PlayFabHTTP.GeneratePfError(-1, PlayFabErrorCode.Unknown, e.getMessage(), null, null);
+            return exceptionResult;
+        }
+    }
+
+    /**
+     * Retrieves the entity's profile.
+     * @param request GetEntityProfileRequest
+     * @return GetEntityProfileResponse
+     */
+    public PlayFabResult<GetEntityProfileResponse> GetProfile(final GetEntityProfileRequest request) {
+        try {
+            return PlayFabProfilesAPI.privateGetProfileAsync(this, request);
+        } catch(Exception e) {
+            PlayFabResult<GetEntityProfileResponse> exceptionResult = new PlayFabResult<GetEntityProfileResponse>();
+            exceptionResult.Error = PlayFabHTTP.GeneratePfError(-1, PlayFabErrorCode.Unknown, e.getMessage(), null, null);
+            return exceptionResult;
+        }
+    }
+
+    /**
+     * Retrieves the entity's profile.
+     * @param request GetEntityProfilesRequest
+     * @return GetEntityProfilesResponse
+     */
+    public PlayFabResult<GetEntityProfilesResponse> GetProfiles(final GetEntityProfilesRequest request) {
+        try {
+            return PlayFabProfilesAPI.privateGetProfilesAsync(this, request);
+        } catch(Exception e) {
+            PlayFabResult<GetEntityProfilesResponse> exceptionResult = new PlayFabResult<GetEntityProfilesResponse>();
+            exceptionResult.Error = PlayFabHTTP.GeneratePfError(-1, PlayFabErrorCode.Unknown, e.getMessage(), null, null);
+            return exceptionResult;
+        }
+    }
+
+    /**
+     * Retrieves the title player accounts associated with the given master player account.
+     * @param request GetTitlePlayersFromMasterPlayerAccountIdsRequest
+     * @return GetTitlePlayersFromMasterPlayerAccountIdsResponse
+     */
+    public PlayFabResult<GetTitlePlayersFromMasterPlayerAccountIdsResponse> GetTitlePlayersFromMasterPlayerAccountIds(final GetTitlePlayersFromMasterPlayerAccountIdsRequest request) {
+        try {
+            return PlayFabProfilesAPI.privateGetTitlePlayersFromMasterPlayerAccountIdsAsync(this, request);
+        } catch(Exception e) {
+            PlayFabResult<GetTitlePlayersFromMasterPlayerAccountIdsResponse> exceptionResult = new PlayFabResult<GetTitlePlayersFromMasterPlayerAccountIdsResponse>();
+            exceptionResult.Error = PlayFabHTTP.GeneratePfError(-1, PlayFabErrorCode.Unknown, e.getMessage(), null, null);
+            return exceptionResult;
+        }
+    }
+
+    /**
+     * Sets the global title access policy
+     * @param request SetGlobalPolicyRequest
+     * @return SetGlobalPolicyResponse
+     */
+    public PlayFabResult<SetGlobalPolicyResponse> SetGlobalPolicy(final SetGlobalPolicyRequest request) {
+        try {
+            return PlayFabProfilesAPI.privateSetGlobalPolicyAsync(this, request);
+        } catch(Exception e) {
+            PlayFabResult<SetGlobalPolicyResponse> exceptionResult = new PlayFabResult<SetGlobalPolicyResponse>();
+            exceptionResult.Error = PlayFabHTTP.GeneratePfError(-1, PlayFabErrorCode.Unknown, e.getMessage(), null, null);
+            return exceptionResult;
+        }
+    }
+
+    /**
+     * Updates the entity's language. The precedence hierarchy for communication to the player is Title Player Account
+     * language, Master Player Account language, and then title default language if the first two aren't set or supported.
+     * @param request SetProfileLanguageRequest
+     * @return SetProfileLanguageResponse
+     */
+    public PlayFabResult<SetProfileLanguageResponse> SetProfileLanguage(final SetProfileLanguageRequest request) {
+        try {
+            return PlayFabProfilesAPI.privateSetProfileLanguageAsync(this, request);
+        } catch(Exception e) {
+            PlayFabResult<SetProfileLanguageResponse> exceptionResult = new PlayFabResult<SetProfileLanguageResponse>();
+            exceptionResult.Error = PlayFabHTTP.GeneratePfError(-1, PlayFabErrorCode.Unknown, e.getMessage(), null, null);
+            return exceptionResult;
+        }
+    }
+
+    /**
+     * Sets the profiles access policy
+     * @param request SetEntityProfilePolicyRequest
+     * @return SetEntityProfilePolicyResponse
+     */
+    public PlayFabResult<SetEntityProfilePolicyResponse> SetProfilePolicy(final SetEntityProfilePolicyRequest request) {
+        try {
+            return PlayFabProfilesAPI.privateSetProfilePolicyAsync(this, request);
+        } catch(Exception e) {
+            PlayFabResult<SetEntityProfilePolicyResponse> exceptionResult = new PlayFabResult<SetEntityProfilePolicyResponse>();
+            exceptionResult.Error = PlayFabHTTP.GeneratePfError(-1, PlayFabErrorCode.Unknown, e.getMessage(), null, null);
+            return exceptionResult;
+        }
+    }
+
+    /**
+     * @return Non-blocking versions of every call, made with this object's context and started on PlayFabSettings.AsyncExecutor
+     */
+    public Async async() {
+        return async;
+    }
+
+    /**
+     * Non-blocking versions of the PlayFabProfilesInstanceAPI calls. Each call is already running when its PlayFabFuture is returned.
+     */
+    public class Async {
+        private Async() {
+        }
+
+        /**
+         * Gets the global title access policy
+         * @param request GetGlobalPolicyRequest
+         * @return Running future that will complete with GetGlobalPolicyResponse
+         */
+        public PlayFabFuture<PlayFabResult<GetGlobalPolicyResponse>> GetGlobalPolicy(final GetGlobalPolicyRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<GetGlobalPolicyResponse>>() {
+                public PlayFabResult<GetGlobalPolicyResponse> call() throws Exception {
+                    return PlayFabProfilesAPI.privateGetGlobalPolicyAsync(PlayFabProfilesInstanceAPI.this, request);
+                }
+            });
+        }
+
+        /**
+         * Retrieves the entity's profile.
+         * @param request GetEntityProfileRequest
+         * @return Running future that will complete with GetEntityProfileResponse
+         */
+        public PlayFabFuture<PlayFabResult<GetEntityProfileResponse>> GetProfile(final GetEntityProfileRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<GetEntityProfileResponse>>() {
+                public PlayFabResult<GetEntityProfileResponse> call() throws Exception {
+                    return PlayFabProfilesAPI.privateGetProfileAsync(PlayFabProfilesInstanceAPI.this, request);
+                }
+            });
+        }
+
+        /**
+         * Retrieves the entity's profile.
+         * @param request GetEntityProfilesRequest
+         * @return Running future that will complete with GetEntityProfilesResponse
+         */
+        public PlayFabFuture<PlayFabResult<GetEntityProfilesResponse>> GetProfiles(final GetEntityProfilesRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<GetEntityProfilesResponse>>() {
+                public PlayFabResult<GetEntityProfilesResponse> call() throws Exception {
+                    return PlayFabProfilesAPI.privateGetProfilesAsync(PlayFabProfilesInstanceAPI.this, request);
+                }
+            });
+        }
+
+        /**
+         * Retrieves the title player accounts associated with the given master player account.
+         * @param request GetTitlePlayersFromMasterPlayerAccountIdsRequest
+         * @return Running future that will complete with GetTitlePlayersFromMasterPlayerAccountIdsResponse
+         */
+        public PlayFabFuture<PlayFabResult<GetTitlePlayersFromMasterPlayerAccountIdsResponse>> GetTitlePlayersFromMasterPlayerAccountIds(final GetTitlePlayersFromMasterPlayerAccountIdsRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<GetTitlePlayersFromMasterPlayerAccountIdsResponse>>() {
+                public PlayFabResult<GetTitlePlayersFromMasterPlayerAccountIdsResponse> call() throws Exception {
+                    return PlayFabProfilesAPI.privateGetTitlePlayersFromMasterPlayerAccountIdsAsync(PlayFabProfilesInstanceAPI.this, request);
+                }
+            });
+        }
+
+        /**
+         * Sets the global title access policy
+         * @param request SetGlobalPolicyRequest
+         * @return Running future that will complete with SetGlobalPolicyResponse
+         */
+        public PlayFabFuture<PlayFabResult<SetGlobalPolicyResponse>> SetGlobalPolicy(final SetGlobalPolicyRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<SetGlobalPolicyResponse>>() {
+                public PlayFabResult<SetGlobalPolicyResponse> call() throws Exception {
+                    return PlayFabProfilesAPI.privateSetGlobalPolicyAsync(PlayFabProfilesInstanceAPI.this, request);
+                }
+            });
+        }
+
+        /**
+         * Updates the entity's language. The precedence hierarchy for communication to the player is Title Player Account
+         * language, Master Player Account language, and then title default language if the first two aren't set or supported.
+         * @param request SetProfileLanguageRequest
+         * @return Running future that will complete with SetProfileLanguageResponse
+         */
+        public PlayFabFuture<PlayFabResult<SetProfileLanguageResponse>> SetProfileLanguage(final SetProfileLanguageRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<SetProfileLanguageResponse>>() {
+                public PlayFabResult<SetProfileLanguageResponse> call() throws Exception {
+                    return PlayFabProfilesAPI.privateSetProfileLanguageAsync(PlayFabProfilesInstanceAPI.this, request);
+                }
+            });
+        }
+
+        /**
+         * Sets the profiles access policy
+         * @param request SetEntityProfilePolicyRequest
+         * @return Running future that will complete with SetEntityProfilePolicyResponse
+         */
+        public PlayFabFuture<PlayFabResult<SetEntityProfilePolicyResponse>> SetProfilePolicy(final SetEntityProfilePolicyRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<SetEntityProfilePolicyResponse>>() {
+                public PlayFabResult<SetEntityProfilePolicyResponse> call() throws Exception {
+                    return PlayFabProfilesAPI.privateSetProfilePolicyAsync(PlayFabProfilesInstanceAPI.this, request);
+                }
+            });
+        }
+    }
+}
@@ -0,0 +1,1066 @@
+package com.playfab;
+
+import java.io.IOException;
+import java.util.Date;
+import com.google.gson.*;
+import com.google.gson.reflect.TypeToken;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
+import com.playfab.PlayFabProfilesModels.*;
+import com.playfab.internal.PlayFabJson;
+
+/**
+ * Streaming TypeAdapters for every class in PlayFabProfilesModels, so models are read and written without field reflection.
+ * PlayFabJson finds FACTORY through this class name. Enums keep Gson's own adapters, which do no per-call reflection.
+ * Generated from PlayFabProfilesModels by PlayFabModelAdaptersGenerator, in the PlayFabSDK tests: regenerate rather than edit.
+ */
+public class PlayFabProfilesModelsAdapters {
+    public static final TypeAdapterFactory FACTORY = new TypeAdapterFactory() {
+        @SuppressWarnings("unchecked")
+        public <T> TypeAdapter<T> create(Gson gson, TypeToken<T> type) {
+            Class<?> raw = type.getRawType();
+            if (raw.getDeclaringClass() != PlayFabProfilesModels.class)
+                return null;
+            switch (raw.getSimpleName()) {
+                case "EntityDataObject": return (TypeAdapter<T>) new EntityDataObjectAdapter(gson);
+                case "EntityKey": return (TypeAdapter<T>) new EntityKeyAdapter(gson);
+                case "EntityLineage": return (TypeAdapter<T>) new EntityLineageAdapter(gson);
+                case "EntityPermissionStatement": return (TypeAdapter<T>) new EntityPermissionStatementAdapter(gson);
+                case "EntityProfileBody": return (TypeAdapter<T>) new EntityProfileBodyAdapter(gson);
+                case "EntityProfileFileMetadata": return (TypeAdapter<T>) new EntityProfileFileMetadataAdapter(gson);
+                case "EntityStatisticChildValue": return (TypeAdapter<T>) new EntityStatisticChildValueAdapter(gson);
+                case "EntityStatisticValue": return (TypeAdapter<T>) new EntityStatisticValueAdapter(gson);
+                case "GetEntityProfileRequest": return (TypeAdapter<T>) new GetEntityProfileRequestAdapter(gson);
+                case "GetEntityProfileResponse": return (TypeAdapter<T>) new GetEntityProfileResponseAdapter(gson);
+                case "GetEntityProfilesRequest": return (TypeAdapter<T>) new GetEntityProfilesRequestAdapter(gson);
+                case "GetEntityProfilesResponse": return (TypeAdapter<T>) new GetEntityProfilesResponseAdapter(gson);
+                case "GetGlobalPolicyRequest": return (TypeAdapter<T>) new GetGlobalPolicyRequestAdapter(gson);
+                case "GetGlobalPolicyResponse": return (TypeAdapter<T>) new GetGlobalPolicyResponseAdapter(gson);
+                case "GetTitlePlayersFromMasterPlayerAccountIdsRequest": return (TypeAdapter<T>) new GetTitlePlayersFromMasterPlayerAccountIdsRequestAdapter(gson);
+                case "GetTitlePlayersFromMasterPlayerAccountIdsResponse": return (TypeAdapter<T>) new GetTitlePlayersFromMasterPlayerAccountIdsResponseAdapter(gson);
+                case "SetEntityProfilePolicyRequest": return (TypeAdapter<T>) new SetEntityProfilePolicyRequestAdapter(gson);
+                case "SetEntityProfilePolicyResponse": return (TypeAdapter<T>) new SetEntityProfilePolicyResponseAdapter(gson);
+                case "SetGlobalPolicyRequest": return (TypeAdapter<T>) new SetGlobalPolicyRequestAdapter(gson);
+                case "SetGlobalPolicyResponse": return (TypeAdapter<T>) new SetGlobalPolicyResponseAdapter(gson);
+                case "SetProfileLanguageRequest": return (TypeAdapter<T>) new SetProfileLanguageRequestAdapter(gson);
+                case "SetProfileLanguageResponse": return (TypeAdapter<T>) new SetProfileLanguageResponseAdapter(gson);
+                default: return null;
+            }
+        }
+    };
+
+    private static class EntityDataObjectAdapter extends TypeAdapter<EntityDataObject> {
+        private final TypeAdapter<Object> objectAdapter;
+
+        private EntityDataObjectAdapter(Gson gson) {
+            objectAdapter = gson.getAdapter(Object.class);
+        }
+
+        @Override
+        public void write(JsonWriter out, EntityDataObject value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            objectAdapter.write(out.name("DataObject"), value.DataObject);
+            out.name("EscapedDataObject").value(value.EscapedDataObject);
+            out.name("ObjectName").value(value.ObjectName);
+            out.endObject();
+        }
+
+        @Override
+        public EntityDataObject read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            EntityDataObject value = new EntityDataObject();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "DataObject": value.DataObject = objectAdapter.read(in); break;
+                        case "EscapedDataObject": value.EscapedDataObject = PlayFabJson.readString(in); break;
+                        case "ObjectName": value.ObjectName = PlayFabJson.readString(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class EntityKeyAdapter extends TypeAdapter<EntityKey> {
+        private EntityKeyAdapter(Gson gson) {
+        }
+
+        @Override
+        public void write(JsonWriter out, EntityKey value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.name("Id").value(value.Id);
+            out.name("Type").value(value.Type);
+            out.endObject();
+        }
+
+        @Override
+        public EntityKey read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            EntityKey value = new EntityKey();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "Id": value.Id = PlayFabJson.readString(in); break;
+                        case "Type": value.Type = PlayFabJson.readString(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class EntityLineageAdapter extends TypeAdapter<EntityLineage> {
+        private EntityLineageAdapter(Gson gson) {
+        }
+
+        @Override
+        public void write(JsonWriter out, EntityLineage value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.name("CharacterId").value(value.CharacterId);
+            out.name("GroupId").value(value.GroupId);
+            out.name("MasterPlayerAccountId").value(value.MasterPlayerAccountId);
+            out.name("NamespaceId").value(value.NamespaceId);
+            out.name("TitleId").value(value.TitleId);
+            out.name("TitlePlayerAccountId").value(value.TitlePlayerAccountId);
+            out.endObject();
+        }
+
+        @Override
+        public EntityLineage read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            EntityLineage value = new EntityLineage();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "CharacterId": value.CharacterId = PlayFabJson.readString(in); break;
+                        case "GroupId": value.GroupId = PlayFabJson.readString(in); break;
+                        case "MasterPlayerAccountId": value.MasterPlayerAccountId = PlayFabJson.readString(in); break;
+                        case "NamespaceId": value.NamespaceId = PlayFabJson.readString(in); break;
+                        case "TitleId": value.TitleId = PlayFabJson.readString(in); break;
+                        case "TitlePlayerAccountId": value.TitlePlayerAccountId = PlayFabJson.readString(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class EntityPermissionStatementAdapter extends TypeAdapter<EntityPermissionStatement> {
+        private final TypeAdapter<Object> objectAdapter;
+        private final TypeAdapter<EffectType> effectTypeAdapter;
+
+        private EntityPermissionStatementAdapter(Gson gson) {
+            objectAdapter = gson.getAdapter(Object.class);
+            effectTypeAdapter = gson.getAdapter(EffectType.class);
+        }
+
+        @Override
+        public void write(JsonWriter out, EntityPermissionStatement value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.name("Action").value(value.Action);
+            out.name("Comment").value(value.Comment);
+            objectAdapter.write(out.name("Condition"), value.Condition);
+            effectTypeAdapter.write(out.name("Effect"), value.Effect);
+            objectAdapter.write(out.name("Principal"), value.Principal);
+            out.name("Resource").value(value.Resource);
+            out.endObject();
+        }
+
+        @Override
+        public EntityPermissionStatement read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            EntityPermissionStatement value = new EntityPermissionStatement();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "Action": value.Action = PlayFabJson.readString(in); break;
+                        case "Comment": value.Comment = PlayFabJson.readString(in); break;
+                        case "Condition": value.Condition = objectAdapter.read(in); break;
+                        case "Effect": value.Effect = effectTypeAdapter.read(in); break;
+                        case "Principal": value.Principal = objectAdapter.read(in); break;
+                        case "Resource": value.Resource = PlayFabJson.readString(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class EntityProfileBodyAdapter extends TypeAdapter<EntityProfileBody> {
+        private final TypeAdapter<Date> dateAdapter;
+        private final TypeAdapter<EntityKey> entityKeyAdapter;
+        private final TypeAdapter<String> stringAdapter;
+        private final TypeAdapter<EntityProfileFileMetadata> entityProfileFileMetadataAdapter;
+        private final TypeAdapter<EntityLineage> entityLineageAdapter;
+        private final TypeAdapter<EntityDataObject> entityDataObjectAdapter;
+        private final TypeAdapter<EntityPermissionStatement> entityPermissionStatementAdapter;
+        private final TypeAdapter<EntityStatisticValue> entityStatisticValueAdapter;
+
+        private EntityProfileBodyAdapter(Gson gson) {
+            dateAdapter = gson.getAdapter(Date.class);
+            entityKeyAdapter = gson.getAdapter(EntityKey.class);
+            stringAdapter = gson.getAdapter(String.class);
+            entityProfileFileMetadataAdapter = gson.getAdapter(EntityProfileFileMetadata.class);
+            entityLineageAdapter = gson.getAdapter(EntityLineage.class);
+            entityDataObjectAdapter = gson.getAdapter(EntityDataObject.class);
+            entityPermissionStatementAdapter = gson.getAdapter(EntityPermissionStatement.class);
+            entityStatisticValueAdapter = gson.getAdapter(EntityStatisticValue.class);
+        }
+
+        @Override
+        public void write(JsonWriter out, EntityProfileBody value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.name("AvatarUrl").value(value.AvatarUrl);
+            dateAdapter.write(out.name("Created"), value.Created);
+            out.name("DisplayName").value(value.DisplayName);
+            entityKeyAdapter.write(out.name("Entity"), value.Entity);
+            out.name("EntityChain").value(value.EntityChain);
+            PlayFabJson.writeList(out.name("ExperimentVariants"), value.ExperimentVariants, stringAdapter);
+            PlayFabJson.writeMap(out.name("Files"), value.Files, entityProfileFileMetadataAdapter);
+            out.name("Language").value(value.Language);
+            out.name("LeaderboardMetadata").value(value.LeaderboardMetadata);
+            entityLineageAdapter.write(out.name("Lineage"), value.Lineage);
+            PlayFabJson.writeMap(out.name("Objects"), value.Objects, entityDataObjectAdapter);
+            PlayFabJson.writeList(out.name("Permissions"), value.Permissions, entityPermissionStatementAdapter);
+            PlayFabJson.writeMap(out.name("Statistics"), value.Statistics, entityStatisticValueAdapter);
+            out.name("VersionNumber").value(value.VersionNumber);
+            out.endObject();
+        }
+
+        @Override
+        public EntityProfileBody read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            EntityProfileBody value = new EntityProfileBody();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "AvatarUrl": value.AvatarUrl = PlayFabJson.readString(in); break;
+                        case "Created": value.Created = dateAdapter.read(in); break;
+                        case "DisplayName": value.DisplayName = PlayFabJson.readString(in); break;
+                        case "Entity": value.Entity = entityKeyAdapter.read(in); break;
+                        case "EntityChain": value.EntityChain = PlayFabJson.readString(in); break;
+                        case "ExperimentVariants": value.ExperimentVariants = PlayFabJson.readList(in, stringAdapter); break;
+                        case "Files": value.Files = PlayFabJson.readMap(in, entityProfileFileMetadataAdapter); break;
+                        case "Language": value.Language = PlayFabJson.readString(in); break;
+                        case "LeaderboardMetadata": value.LeaderboardMetadata = PlayFabJson.readString(in); break;
+                        case "Lineage": value.Lineage = entityLineageAdapter.read(in); break;
+                        case "Objects": value.Objects = PlayFabJson.readMap(in, entityDataObjectAdapter); break;
+                        case "Permissions": value.Permissions = PlayFabJson.readList(in, entityPermissionStatementAdapter); break;
+                        case "Statistics": value.Statistics = PlayFabJson.readMap(in, entityStatisticValueAdapter); break;
+                        case "VersionNumber": value.VersionNumber = PlayFabJson.readInteger(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class EntityProfileFileMetadataAdapter extends TypeAdapter<EntityProfileFileMetadata> {
+        private final TypeAdapter<Date> dateAdapter;
+
+        private EntityProfileFileMetadataAdapter(Gson gson) {
+            dateAdapter = gson.getAdapter(Date.class);
+        }
+
+        @Override
+        public void write(JsonWriter out, EntityProfileFileMetadata value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.name("Checksum").value(value.Checksum);
+            out.name("FileName").value(value.FileName);
+            dateAdapter.write(out.name("LastModified"), value.LastModified);
+            out.name("Size").value(value.Size);
+            out.endObject();
+        }
+
+        @Override
+        public EntityProfileFileMetadata read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            EntityProfileFileMetadata value = new EntityProfileFileMetadata();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "Checksum": value.Checksum = PlayFabJson.readString(in); break;
+                        case "FileName": value.FileName = PlayFabJson.readString(in); break;
+                        case "LastModified": value.LastModified = dateAdapter.read(in); break;
+                        case "Size": value.Size = PlayFabJson.readInteger(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class EntityStatisticChildValueAdapter extends TypeAdapter<EntityStatisticChildValue> {
+        private EntityStatisticChildValueAdapter(Gson gson) {
+        }
+
+        @Override
+        public void write(JsonWriter out, EntityStatisticChildValue value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.name("ChildName").value(value.ChildName);
+            out.name("Metadata").value(value.Metadata);
+            out.name("Value").value(value.Value);
+            out.endObject();
+        }
+
+        @Override
+        public EntityStatisticChildValue read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            EntityStatisticChildValue value = new EntityStatisticChildValue();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "ChildName": value.ChildName = PlayFabJson.readString(in); break;
+                        case "Metadata": value.Metadata = PlayFabJson.readString(in); break;
+                        case "Value": value.Value = PlayFabJson.readInteger(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class EntityStatisticValueAdapter extends TypeAdapter<EntityStatisticValue> {
+        private final TypeAdapter<EntityStatisticChildValue> entityStatisticChildValueAdapter;
+
+        private EntityStatisticValueAdapter(Gson gson) {
+            entityStatisticChildValueAdapter = gson.getAdapter(EntityStatisticChildValue.class);
+        }
+
+        @Override
+        public void write(JsonWriter out, EntityStatisticValue value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            PlayFabJson.writeMap(out.name("ChildStatistics"), value.ChildStatistics, entityStatisticChildValueAdapter);
+            out.name("Metadata").value(value.Metadata);
+            out.name("Name").value(value.Name);
+            out.name("Value").value(value.Value);
+            out.name("Version").value(value.Version);
+            out.endObject();
+        }
+
+        @Override
+        public EntityStatisticValue read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            EntityStatisticValue value = new EntityStatisticValue();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "ChildStatistics": value.ChildStatistics = PlayFabJson.readMap(in, entityStatisticChildValueAdapter); break;
+                        case "Metadata": value.Metadata = PlayFabJson.readString(in); break;
+                        case "Name": value.Name = PlayFabJson.readString(in); break;
+                        case "Value": value.Value = PlayFabJson.readInteger(in); break;
+                        case "Version": value.Version = PlayFabJson.readInteger(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class GetEntityProfileRequestAdapter extends TypeAdapter<GetEntityProfileRequest> {
+        private final TypeAdapter<String> stringAdapter;
+        private final TypeAdapter<EntityKey> entityKeyAdapter;
+
+        private GetEntityProfileRequestAdapter(Gson gson) {
+            stringAdapter = gson.getAdapter(String.class);
+            entityKeyAdapter = gson.getAdapter(EntityKey.class);
+        }
+
+        @Override
+        public void write(JsonWriter out, GetEntityProfileRequest value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            PlayFabJson.writeMap(out.name("CustomTags"), value.CustomTags, stringAdapter);
+            out.name("DataAsObject").value(value.DataAsObject);
+            entityKeyAdapter.write(out.name("Entity"), value.Entity);
+            out.endObject();
+        }
+
+        @Override
+        public GetEntityProfileRequest read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            GetEntityProfileRequest value = new GetEntityProfileRequest();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "CustomTags": value.CustomTags = PlayFabJson.readMap(in, stringAdapter); break;
+                        case "DataAsObject": value.DataAsObject = PlayFabJson.readBoolean(in); break;
+                        case "Entity": value.Entity = entityKeyAdapter.read(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class GetEntityProfileResponseAdapter extends TypeAdapter<GetEntityProfileResponse> {
+        private final TypeAdapter<EntityProfileBody> entityProfileBodyAdapter;
+
+        private GetEntityProfileResponseAdapter(Gson gson) {
+            entityProfileBodyAdapter = gson.getAdapter(EntityProfileBody.class);
+        }
+
+        @Override
+        public void write(JsonWriter out, GetEntityProfileResponse value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            entityProfileBodyAdapter.write(out.name("Profile"), value.Profile);
+            out.endObject();
+        }
+
+        @Override
+        public GetEntityProfileResponse read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            GetEntityProfileResponse value = new GetEntityProfileResponse();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "Profile": value.Profile = entityProfileBodyAdapter.read(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class GetEntityProfilesRequestAdapter extends TypeAdapter<GetEntityProfilesRequest> {
+        private final TypeAdapter<String> stringAdapter;
+        private final TypeAdapter<EntityKey> entityKeyAdapter;
+
+        private GetEntityProfilesRequestAdapter(Gson gson) {
+            stringAdapter = gson.getAdapter(String.class);
+            entityKeyAdapter = gson.getAdapter(EntityKey.class);
+        }
+
+        @Override
+        public void write(JsonWriter out, GetEntityProfilesRequest value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            PlayFabJson.writeMap(out.name("CustomTags"), value.CustomTags, stringAdapter);
+            out.name("DataAsObject").value(value.DataAsObject);
+            PlayFabJson.writeList(out.name("Entities"), value.Entities, entityKeyAdapter);
+            out.endObject();
+        }
+
+        @Override
+        public GetEntityProfilesRequest read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            GetEntityProfilesRequest value = new GetEntityProfilesRequest();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "CustomTags": value.CustomTags = PlayFabJson.readMap(in, stringAdapter); break;
+                        case "DataAsObject": value.DataAsObject = PlayFabJson.readBoolean(in); break;
+                        case "Entities": value.Entities = PlayFabJson.readList(in, entityKeyAdapter); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class GetEntityProfilesResponseAdapter extends TypeAdapter<GetEntityProfilesResponse> {
+        private final TypeAdapter<EntityProfileBody> entityProfileBodyAdapter;
+
+        private GetEntityProfilesResponseAdapter(Gson gson) {
+            entityProfileBodyAdapter = gson.getAdapter(EntityProfileBody.class);
+        }
+
+        @Override
+        public void write(JsonWriter out, GetEntityProfilesResponse value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            PlayFabJson.writeList(out.name("Profiles"), value.Profiles, entityProfileBodyAdapter);
+            out.endObject();
+        }
+
+        @Override
+        public GetEntityProfilesResponse read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            GetEntityProfilesResponse value = new GetEntityProfilesResponse();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "Profiles": value.Profiles = PlayFabJson.readList(in, entityProfileBodyAdapter); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class GetGlobalPolicyRequestAdapter extends TypeAdapter<GetGlobalPolicyRequest> {
+        private final TypeAdapter<String> stringAdapter;
+
+        private GetGlobalPolicyRequestAdapter(Gson gson) {
+            stringAdapter = gson.getAdapter(String.class);
+        }
+
+        @Override
+        public void write(JsonWriter out, GetGlobalPolicyRequest value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            PlayFabJson.writeMap(out.name("CustomTags"), value.CustomTags, stringAdapter);
+            out.endObject();
+        }
+
+        @Override
+        public GetGlobalPolicyRequest read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            GetGlobalPolicyRequest value = new GetGlobalPolicyRequest();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "CustomTags": value.CustomTags = PlayFabJson.readMap(in, stringAdapter); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class GetGlobalPolicyResponseAdapter extends TypeAdapter<GetGlobalPolicyResponse> {
+        private final TypeAdapter<EntityPermissionStatement> entityPermissionStatementAdapter;
+
+        private GetGlobalPolicyResponseAdapter(Gson gson) {
+            entityPermissionStatementAdapter = gson.getAdapter(EntityPermissionStatement.class);
+        }
+
+        @Override
+        public void write(JsonWriter out, GetGlobalPolicyResponse value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            PlayFabJson.writeList(out.name("Permissions"), value.Permissions, entityPermissionStatementAdapter);
+            out.endObject();
+        }
+
+        @Override
+        public GetGlobalPolicyResponse read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            GetGlobalPolicyResponse value = new GetGlobalPolicyResponse();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "Permissions": value.Permissions = PlayFabJson.readList(in, entityPermissionStatementAdapter); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class GetTitlePlayersFromMasterPlayerAccountIdsRequestAdapter extends TypeAdapter<GetTitlePlayersFromMasterPlayerAccountIdsRequest> {
+        private final TypeAdapter<String> stringAdapter;
+
+        private GetTitlePlayersFromMasterPlayerAccountIdsRequestAdapter(Gson gson) {
+            stringAdapter = gson.getAdapter(String.class);
+        }
+
+        @Override
+        public void write(JsonWriter out, GetTitlePlayersFromMasterPlayerAccountIdsRequest value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            PlayFabJson.writeMap(out.name("CustomTags"), value.CustomTags, stringAdapter);
+            PlayFabJson.writeList(out.name("MasterPlayerAccountIds"), value.MasterPlayerAccountIds, stringAdapter);
+            out.name("TitleId").value(value.TitleId);
+            out.endObject();
+        }
+
+        @Override
+        public GetTitlePlayersFromMasterPlayerAccountIdsRequest read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            GetTitlePlayersFromMasterPlayerAccountIdsRequest value = new GetTitlePlayersFromMasterPlayerAccountIdsRequest();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "CustomTags": value.CustomTags = PlayFabJson.readMap(in, stringAdapter); break;
+                        case "MasterPlayerAccountIds": value.MasterPlayerAccountIds = PlayFabJson.readList(in, stringAdapter); break;
+                        case "TitleId": value.TitleId = PlayFabJson.readString(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class GetTitlePlayersFromMasterPlayerAccountIdsResponseAdapter extends TypeAdapter<GetTitlePlayersFromMasterPlayerAccountIdsResponse> {
+        private final TypeAdapter<EntityKey> entityKeyAdapter;
+
+        private GetTitlePlayersFromMasterPlayerAccountIdsResponseAdapter(Gson gson) {
+            entityKeyAdapter = gson.getAdapter(EntityKey.class);
+        }
+
+        @Override
+        public void write(JsonWriter out, GetTitlePlayersFromMasterPlayerAccountIdsResponse value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.name("TitleId").value(value.TitleId);
+            PlayFabJson.writeMap(out.name("TitlePlayerAccounts"), value.TitlePlayerAccounts, entityKeyAdapter);
+            out.endObject();
+        }
+
+        @Override
+        public GetTitlePlayersFromMasterPlayerAccountIdsResponse read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            GetTitlePlayersFromMasterPlayerAccountIdsResponse value = new GetTitlePlayersFromMasterPlayerAccountIdsResponse();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "TitleId": value.TitleId = PlayFabJson.readString(in); break;
+                        case "TitlePlayerAccounts": value.TitlePlayerAccounts = PlayFabJson.readMap(in, entityKeyAdapter); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class SetEntityProfilePolicyRequestAdapter extends TypeAdapter<SetEntityProfilePolicyRequest> {
+        private final TypeAdapter<String> stringAdapter;
+        private final TypeAdapter<EntityKey> entityKeyAdapter;
+        private final TypeAdapter<EntityPermissionStatement> entityPermissionStatementAdapter;
+
+        private SetEntityProfilePolicyRequestAdapter(Gson gson) {
+            stringAdapter = gson.getAdapter(String.class);
+            entityKeyAdapter = gson.getAdapter(EntityKey.class);
+            entityPermissionStatementAdapter = gson.getAdapter(EntityPermissionStatement.class);
+        }
+
+        @Override
+        public void write(JsonWriter out, SetEntityProfilePolicyRequest value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            PlayFabJson.writeMap(out.name("CustomTags"), value.CustomTags, stringAdapter);
+            entityKeyAdapter.write(out.name("Entity"), value.Entity);
+            PlayFabJson.writeList(out.name("Statements"), value.Statements, entityPermissionStatementAdapter);
+            out.endObject();
+        }
+
+        @Override
+        public SetEntityProfilePolicyRequest read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            SetEntityProfilePolicyRequest value = new SetEntityProfilePolicyRequest();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "CustomTags": value.CustomTags = PlayFabJson.readMap(in, stringAdapter); break;
+                        case "Entity": value.Entity = entityKeyAdapter.read(in); break;
+                        case "Statements": value.Statements = PlayFabJson.readList(in, entityPermissionStatementAdapter); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class SetEntityProfilePolicyResponseAdapter extends TypeAdapter<SetEntityProfilePolicyResponse> {
+        private final TypeAdapter<EntityPermissionStatement> entityPermissionStatementAdapter;
+
+        private SetEntityProfilePolicyResponseAdapter(Gson gson) {
+            entityPermissionStatementAdapter = gson.getAdapter(EntityPermissionStatement.class);
+        }
+
+        @Override
+        public void write(JsonWriter out, SetEntityProfilePolicyResponse value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            PlayFabJson.writeList(out.name("Permissions"), value.Permissions, entityPermissionStatementAdapter);
+            out.endObject();
+        }
+
+        @Override
+        public SetEntityProfilePolicyResponse read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            SetEntityProfilePolicyResponse value = new SetEntityProfilePolicyResponse();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "Permissions": value.Permissions = PlayFabJson.readList(in, entityPermissionStatementAdapter); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class SetGlobalPolicyRequestAdapter extends TypeAdapter<SetGlobalPolicyRequest> {
+        private final TypeAdapter<String> stringAdapter;
+        private final TypeAdapter<EntityPermissionStatement> entityPermissionStatementAdapter;
+
+        private SetGlobalPolicyRequestAdapter(Gson gson) {
+            stringAdapter = gson.getAdapter(String.class);
+            entityPermissionStatementAdapter = gson.getAdapter(EntityPermissionStatement.class);
+        }
+
+        @Override
+        public void write(JsonWriter out, SetGlobalPolicyRequest value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            PlayFabJson.writeMap(out.name("CustomTags"), value.CustomTags, stringAdapter);
+            PlayFabJson.writeList(out.name("Permissions"), value.Permissions, entityPermissionStatementAdapter);
+            out.endObject();
+        }
+
+        @Override
+        public SetGlobalPolicyRequest read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            SetGlobalPolicyRequest value = new SetGlobalPolicyRequest();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "CustomTags": value.CustomTags = PlayFabJson.readMap(in, stringAdapter); break;
+                        case "Permissions": value.Permissions = PlayFabJson.readList(in, entityPermissionStatementAdapter); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class SetGlobalPolicyResponseAdapter extends TypeAdapter<SetGlobalPolicyResponse> {
+        private SetGlobalPolicyResponseAdapter(Gson gson) {
+        }
+
+        @Override
+        public void write(JsonWriter out, SetGlobalPolicyResponse value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.endObject();
+        }
+
+        @Override
+        public SetGlobalPolicyResponse read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            SetGlobalPolicyResponse value = new SetGlobalPolicyResponse();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class SetProfileLanguageRequestAdapter extends TypeAdapter<SetProfileLanguageRequest> {
+        private final TypeAdapter<String> stringAdapter;
+        private final TypeAdapter<EntityKey> entityKeyAdapter;
+
+        private SetProfileLanguageRequestAdapter(Gson gson) {
+            stringAdapter = gson.getAdapter(String.class);
+            entityKeyAdapter = gson.getAdapter(EntityKey.class);
+        }
+
+        @Override
+        public void write(JsonWriter out, SetProfileLanguageRequest value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            PlayFabJson.writeMap(out.name("CustomTags"), value.CustomTags, stringAdapter);
+            entityKeyAdapter.write(out.name("Entity"), value.Entity);
+            out.name("ExpectedVersion").value(value.ExpectedVersion);
+            out.name("Language").value(value.Language);
+            out.endObject();
+        }
+
+        @Override
+        public SetProfileLanguageRequest read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            SetProfileLanguageRequest value = new SetProfileLanguageRequest();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "CustomTags": value.CustomTags = PlayFabJson.readMap(in, stringAdapter); break;
+                        case "Entity": value.Entity = entityKeyAdapter.read(in); break;
+                        case "ExpectedVersion": value.ExpectedVersion = PlayFabJson.readInteger(in); break;
+                        case "Language": value.Language = PlayFabJson.readString(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class SetProfileLanguageResponseAdapter extends TypeAdapter<SetProfileLanguageResponse> {
+        private final TypeAdapter<OperationTypes> operationTypesAdapter;
+
+        private SetProfileLanguageResponseAdapter(Gson gson) {
+            operationTypesAdapter = gson.getAdapter(OperationTypes.class);
+        }
+
+        @Override
+        public void write(JsonWriter out, SetProfileLanguageResponse value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            operationTypesAdapter.write(out.name("OperationResult"), value.OperationResult);
+            out.name("VersionNumber").value(value.VersionNumber);
+            out.endObject();
+        }
+
+        @Override
+        public SetProfileLanguageResponse read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            SetProfileLanguageResponse value = new SetProfileLanguageResponse();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "OperationResult": value.OperationResult = operationTypesAdapter.read(in); break;
+                        case "VersionNumber": value.VersionNumber = PlayFabJson.readInteger(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+}
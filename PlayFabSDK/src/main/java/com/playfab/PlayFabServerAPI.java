@@ -6,15 +6,13 @@ import com.playfab.PlayFabErrors.*;
 import com.playfab.PlayFabSettings;
 import java.util.concurrent.*;
 import java.util.*;
-import com.google.gson.*;
-import com.google.gson.reflect.*;
 
     /**
      * Provides functionality to allow external (developer-controlled) servers to interact with user inventories and data in a
      * trusted manner, and to handle matchmaking and client connection orchestration
      */
 public class PlayFabServerAPI {
-    private static Gson gson = new GsonBuilder().setDateFormat("yyyy-MM-dd'T'HH:mm:ss.SSS'Z'").create();
+    private static final Async async = new Async();
 
     /**
      * Increments the character's balance of the specified virtual currency by the stated amount
@@ -25,7 +23,7 @@ public class PlayFabServerAPI {
     public static FutureTask<PlayFabResult<ModifyCharacterVirtualCurrencyResult>> AddCharacterVirtualCurrencyAsync(final AddCharacterVirtualCurrencyRequest request) {
         return new FutureTask(new Callable<PlayFabResult<ModifyCharacterVirtualCurrencyResult>>() {
             public PlayFabResult<ModifyCharacterVirtualCurrencyResult> call() throws Exception {
-                return privateAddCharacterVirtualCurrencyAsync(request);
+                return privateAddCharacterVirtualCurrencyAsync(null, request);
             }
         });
     }
@@ -39,7 +37,7 @@ public class PlayFabServerAPI {
     public static PlayFabResult<ModifyCharacterVirtualCurrencyResult> AddCharacterVirtualCurrency(final AddCharacterVirtualCurrencyRequest request) {
         FutureTask<PlayFabResult<ModifyCharacterVirtualCurrencyResult>> task = new FutureTask(new Callable<PlayFabResult<ModifyCharacterVirtualCurrencyResult>>() {
             public PlayFabResult<ModifyCharacterVirtualCurrencyResult> call() throws Exception {
-                return privateAddCharacterVirtualCurrencyAsync(request);
+                return privateAddCharacterVirtualCurrencyAsync(null, request);
             }
         });
         try {
@@ -54,10 +52,11 @@ public class PlayFabServerAPI {
 
     /** Increments the character's balance of the specified virtual currency by the stated amount */
     @SuppressWarnings("unchecked")
-    private static PlayFabResult<ModifyCharacterVirtualCurrencyResult> privateAddCharacterVirtualCurrencyAsync(final AddCharacterVirtualCurrencyRequest request) throws Exception {
-        if (PlayFabSettings.DeveloperSecretKey == null) throw new Exception ("Must have PlayFabSettings.DeveloperSecretKey set to call this method");
+    static PlayFabResult<ModifyCharacterVirtualCurrencyResult> privateAddCharacterVirtualCurrencyAsync(final PlayFabInstanceAPI instance, final AddCharacterVirtualCurrencyRequest request) throws Exception {
+        final PlayFabApiContext context = PlayFabInstanceAPI.contextOf(instance);
+        if (context.getDeveloperSecretKey() == null) throw new Exception ("Must have PlayFabSettings.DeveloperSecretKey set to call this method");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Server/AddCharacterVirtualCurrency"), request, "X-SecretKey", PlayFabSettings.DeveloperSecretKey);
+        FutureTask<Object> task = PlayFabHTTP.doPost(context.getURL("/Server/AddCharacterVirtualCurrency"), request, "X-SecretKey", context.getDeveloperSecretKey(), ModifyCharacterVirtualCurrencyResult.class);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -68,9 +67,7 @@ public class PlayFabServerAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
-
-        PlayFabJsonSuccess<ModifyCharacterVirtualCurrencyResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<ModifyCharacterVirtualCurrencyResult>>(){}.getType());
+        PlayFabJsonSuccess<ModifyCharacterVirtualCurrencyResult> resultData = (PlayFabJsonSuccess<ModifyCharacterVirtualCurrencyResult>) httpResult;
         ModifyCharacterVirtualCurrencyResult result = resultData.data;
 
         PlayFabResult<ModifyCharacterVirtualCurrencyResult> pfResult = new PlayFabResult<ModifyCharacterVirtualCurrencyResult>();
@@ -88,7 +85,7 @@ public class PlayFabServerAPI {
     public static FutureTask<PlayFabResult<EmptyResponse>> AddFriendAsync(final AddFriendRequest request) {
         return new FutureTask(new Callable<PlayFabResult<EmptyResponse>>() {
             public PlayFabResult<EmptyResponse> call() throws Exception {
-                return privateAddFriendAsync(request);
+                return privateAddFriendAsync(null, request);
             }
         });
     }
@@ -103,7 +100,7 @@ public class PlayFabServerAPI {
     public static PlayFabResult<EmptyResponse> AddFriend(final AddFriendRequest request) {
         FutureTask<PlayFabResult<EmptyResponse>> task = new FutureTask(new Callable<PlayFabResult<EmptyResponse>>() {
             public PlayFabResult<EmptyResponse> call() throws Exception {
-                return privateAddFriendAsync(request);
+                return privateAddFriendAsync(null, request);
             }
         });
         try {
@@ -121,10 +118,11 @@ public class PlayFabServerAPI {
      * FriendPlayFabId,FriendUsername,FriendEmail, or FriendTitleDisplayName should be initialized.
      */
     @SuppressWarnings("unchecked")
-    private static PlayFabResult<EmptyResponse> privateAddFriendAsync(final AddFriendRequest request) throws Exception {
-        if (PlayFabSettings.DeveloperSecretKey == null) throw new Exception ("Must have PlayFabSettings.DeveloperSecretKey set to call this method");
+    static PlayFabResult<EmptyResponse> privateAddFriendAsync(final PlayFabInstanceAPI instance, final AddFriendRequest request) throws Exception {
+        final PlayFabApiContext context = PlayFabInstanceAPI.contextOf(instance);
+        if (context.getDeveloperSecretKey() == null) throw new Exception ("Must have PlayFabSettings.DeveloperSecretKey set to call this method");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Server/AddFriend"), request, "X-SecretKey", PlayFabSettings.DeveloperSecretKey);
+        FutureTask<Object> task = PlayFabHTTP.doPost(context.getURL("/Server/AddFriend"), request, "X-SecretKey", context.getDeveloperSecretKey(), EmptyResponse.class);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -135,9 +133,7 @@ public class PlayFabServerAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
-
-        PlayFabJsonSuccess<EmptyResponse> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<EmptyResponse>>(){}.getType());
+        PlayFabJsonSuccess<EmptyResponse> resultData = (PlayFabJsonSuccess<EmptyResponse>) httpResult;
         EmptyResponse result = resultData.data;
 
         PlayFabResult<EmptyResponse> pfResult = new PlayFabResult<EmptyResponse>();
@@ -156,7 +152,7 @@ public class PlayFabServerAPI {
     public static FutureTask<PlayFabResult<EmptyResult>> AddGenericIDAsync(final AddGenericIDRequest request) {
         return new FutureTask(new Callable<PlayFabResult<EmptyResult>>() {
             public PlayFabResult<EmptyResult> call() throws Exception {
-                return privateAddGenericIDAsync(request);
+                return privateAddGenericIDAsync(null, request);
             }
         });
     }
@@ -172,7 +168,7 @@ public class PlayFabServerAPI {
     public static PlayFabResult<EmptyResult> AddGenericID(final AddGenericIDRequest request) {
         FutureTask<PlayFabResult<EmptyResult>> task = new FutureTask(new Callable<PlayFabResult<EmptyResult>>() {
             public PlayFabResult<EmptyResult> call() throws Exception {
-                return privateAddGenericIDAsync(request);
+                return privateAddGenericIDAsync(null, request);
             }
         });
         try {
@@ -191,10 +187,11 @@ public class PlayFabServerAPI {
      * authentication credentials, as the intent is that it is easily accessible by other players.
      */
     @SuppressWarnings("unchecked")
-    private static PlayFabResult<EmptyResult> privateAddGenericIDAsync(final AddGenericIDRequest request) throws Exception {
-        if (PlayFabSettings.DeveloperSecretKey == null) throw new Exception ("Must have PlayFabSettings.DeveloperSecretKey set to call this method");
+    static PlayFabResult<EmptyResult> privateAddGenericIDAsync(final PlayFabInstanceAPI instance, final AddGenericIDRequest request) throws Exception {
+        final PlayFabApiContext context = PlayFabInstanceAPI.contextOf(instance);
+        if (context.getDeveloperSecretKey() == null) throw new Exception ("Must have PlayFabSettings.DeveloperSecretKey set to call this method");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Server/AddGenericID"), request, "X-SecretKey", PlayFabSettings.DeveloperSecretKey);
+        FutureTask<Object> task = PlayFabHTTP.doPost(context.getURL("/Server/AddGenericID"), request, "X-SecretKey", context.getDeveloperSecretKey(), EmptyResult.class);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -205,9 +202,7 @@ public class PlayFabServerAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
-
-        PlayFabJsonSuccess<EmptyResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<EmptyResult>>(){}.getType());
+        PlayFabJsonSuccess<EmptyResult> resultData = (PlayFabJsonSuccess<EmptyResult>) httpResult;
         EmptyResult result = resultData.data;
 
         PlayFabResult<EmptyResult> pfResult = new PlayFabResult<EmptyResult>();
@@ -224,7 +219,7 @@ public class PlayFabServerAPI {
     public static FutureTask<PlayFabResult<AddPlayerTagResult>> AddPlayerTagAsync(final AddPlayerTagRequest request) {
         return new FutureTask(new Callable<PlayFabResult<AddPlayerTagResult>>() {
             public PlayFabResult<AddPlayerTagResult> call() throws Exception {
-                return privateAddPlayerTagAsync(request);
+                return privateAddPlayerTagAsync(null, request);
             }
         });
     }
@@ -238,7 +233,7 @@ public class PlayFabServerAPI {
     public static PlayFabResult<AddPlayerTagResult> AddPlayerTag(final AddPlayerTagRequest request) {
         FutureTask<PlayFabResult<AddPlayerTagResult>> task = new FutureTask(new Callable<PlayFabResult<AddPlayerTagResult>>() {
             public PlayFabResult<AddPlayerTagResult> call() throws Exception {
-                return privateAddPlayerTagAsync(request);
+                return privateAddPlayerTagAsync(null, request);
             }
         });
         try {
@@ -253,10 +248,11 @@ public class PlayFabServerAPI {
 
     /** Adds a given tag to a player profile. The tag's namespace is automatically generated based on the source of the tag. */
     @SuppressWarnings("unchecked")
-    private static PlayFabResult<AddPlayerTagResult> privateAddPlayerTagAsync(final AddPlayerTagRequest request) throws Exception {
-        if (PlayFabSettings.DeveloperSecretKey == null) throw new Exception ("Must have PlayFabSettings.DeveloperSecretKey set to call this method");
+    static PlayFabResult<AddPlayerTagResult> privateAddPlayerTagAsync(final PlayFabInstanceAPI instance, final AddPlayerTagRequest request) throws Exception {
+        final PlayFabApiContext context = PlayFabInstanceAPI.contextOf(instance);
+        if (context.getDeveloperSecretKey() == null) throw new Exception ("Must have PlayFabSettings.DeveloperSecretKey set to call this method");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Server/AddPlayerTag"), request, "X-SecretKey", PlayFabSettings.DeveloperSecretKey);
+        FutureTask<Object> task = PlayFabHTTP.doPost(context.getURL("/Server/AddPlayerTag"), request, "X-SecretKey", context.getDeveloperSecretKey(), AddPlayerTagResult.class);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -267,9 +263,7 @@ public class PlayFabServerAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
-
-        PlayFabJsonSuccess<AddPlayerTagResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<AddPlayerTagResult>>(){}.getType());
+        PlayFabJsonSuccess<AddPlayerTagResult> resultData = (PlayFabJsonSuccess<AddPlayerTagResult>) httpResult;
         AddPlayerTagResult result = resultData.data;
 
         PlayFabResult<AddPlayerTagResult> pfResult = new PlayFabResult<AddPlayerTagResult>();
@@ -289,7 +283,7 @@ public class PlayFabServerAPI {
     public static FutureTask<PlayFabResult<AddSharedGroupMembersResult>> AddSharedGroupMembersAsync(final AddSharedGroupMembersRequest request) {
         return new FutureTask(new Callable<PlayFabResult<AddSharedGroupMembersResult>>() {
             public PlayFabResult<AddSharedGroupMembersResult> call() throws Exception {
-                return privateAddSharedGroupMembersAsync(request);
+                return privateAddSharedGroupMembersAsync(null, request);
             }
         });
     }
@@ -306,7 +300,7 @@ public class PlayFabServerAPI {
     public static PlayFabResult<AddSharedGroupMembersResult> AddSharedGroupMembers(final AddSharedGroupMembersRequest request) {
         FutureTask<PlayFabResult<AddSharedGroupMembersResult>> task = new FutureTask(new Callable<PlayFabResult<AddSharedGroupMembersResult>>() {
             public PlayFabResult<AddSharedGroupMembersResult> call() throws Exception {
-                return privateAddSharedGroupMembersAsync(request);
+                return privateAddSharedGroupMembersAsync(null, request);
             }
         });
         try {
@@ -326,10 +320,11 @@ public class PlayFabServerAPI {
      * https://docs.microsoft.com/gaming/playfab/features/social/groups/using-shared-group-data
      */
     @SuppressWarnings("unchecked")
-    private static PlayFabResult<AddSharedGroupMembersResult> privateAddSharedGroupMembersAsync(final AddSharedGroupMembersRequest request) throws Exception {
-        if (PlayFabSettings.DeveloperSecretKey == null) throw new Exception ("Must have PlayFabSettings.DeveloperSecretKey set to call this method");
+    static PlayFabResult<AddSharedGroupMembersResult> privateAddSharedGroupMembersAsync(final PlayFabInstanceAPI instance, final AddSharedGroupMembersRequest request) throws Exception {
+        final PlayFabApiContext context = PlayFabInstanceAPI.contextOf(instance);
+        if (context.getDeveloperSecretKey() == null) throw new Exception ("Must have PlayFabSettings.DeveloperSecretKey set to call this method");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Server/AddSharedGroupMembers"), request, "X-SecretKey", PlayFabSettings.DeveloperSecretKey);
+        FutureTask<Object> task = PlayFabHTTP.doPost(context.getURL("/Server/AddSharedGroupMembers"), request, "X-SecretKey", context.getDeveloperSecretKey(), AddSharedGroupMembersResult.class);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -340,9 +335,7 @@ public class PlayFabServerAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
-
-        PlayFabJsonSuccess<AddSharedGroupMembersResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<AddSharedGroupMembersResult>>(){}.getType());
+        PlayFabJsonSuccess<AddSharedGroupMembersResult> resultData = (PlayFabJsonSuccess<AddSharedGroupMembersResult>) httpResult;
         AddSharedGroupMembersResult result = resultData.data;
 
         PlayFabResult<AddSharedGroupMembersResult> pfResult = new PlayFabResult<AddSharedGroupMembersResult>();
@@ -359,7 +352,7 @@ public class PlayFabServerAPI {
     public static FutureTask<PlayFabResult<ModifyUserVirtualCurrencyResult>> AddUserVirtualCurrencyAsync(final AddUserVirtualCurrencyRequest request) {
         return new FutureTask(new Callable<PlayFabResult<ModifyUserVirtualCurrencyResult>>() {
             public PlayFabResult<ModifyUserVirtualCurrencyResult> call() throws Exception {
-                return privateAddUserVirtualCurrencyAsync(request);
+                return privateAddUserVirtualCurrencyAsync(null, request);
             }
         });
     }
@@ -373,7 +366,7 @@ public class PlayFabServerAPI {
     public static PlayFabResult<ModifyUserVirtualCurrencyResult> AddUserVirtualCurrency(final AddUserVirtualCurrencyRequest request) {
         FutureTask<PlayFabResult<ModifyUserVirtualCurrencyResult>> task = new FutureTask(new Callable<PlayFabResult<ModifyUserVirtualCurrencyResult>>() {
             public PlayFabResult<ModifyUserVirtualCurrencyResult> call() throws Exception {
-                return privateAddUserVirtualCurrencyAsync(request);
+                return privateAddUserVirtualCurrencyAsync(null, request);
             }
         });
         try {
@@ -388,10 +381,11 @@ public class PlayFabServerAPI {
 
     /** Increments the user's balance of the specified virtual currency by the stated amount */
     @SuppressWarnings("unchecked")
-    private static PlayFabResult<ModifyUserVirtualCurrencyResult> privateAddUserVirtualCurrencyAsync(final AddUserVirtualCurrencyRequest request) throws Exception {
-        if (PlayFabSettings.DeveloperSecretKey == null) throw new Exception ("Must have PlayFabSettings.DeveloperSecretKey set to call this method");
+    static PlayFabResult<ModifyUserVirtualCurrencyResult> privateAddUserVirtualCurrencyAsync(final PlayFabInstanceAPI instance, final AddUserVirtualCurrencyRequest request) throws Exception {
+        final PlayFabApiContext context = PlayFabInstanceAPI.contextOf(instance);
+        if (context.getDeveloperSecretKey() == null) throw new Exception ("Must have PlayFabSettings.DeveloperSecretKey set to call this method");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Server/AddUserVirtualCurrency"), request, "X-SecretKey", PlayFabSettings.DeveloperSecretKey);
+        FutureTask<Object> task = PlayFabHTTP.doPost(context.getURL("/Server/AddUserVirtualCurrency"), request, "X-SecretKey", context.getDeveloperSecretKey(), ModifyUserVirtualCurrencyResult.class);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -402,9 +396,7 @@ public class PlayFabServerAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
-
-        PlayFabJsonSuccess<ModifyUserVirtualCurrencyResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<ModifyUserVirtualCurrencyResult>>(){}.getType());
+        PlayFabJsonSuccess<ModifyUserVirtualCurrencyResult> resultData = (PlayFabJsonSuccess<ModifyUserVirtualCurrencyResult>) httpResult;
         ModifyUserVirtualCurrencyResult result = resultData.data;
 
         PlayFabResult<ModifyUserVirtualCurrencyResult> pfResult = new PlayFabResult<ModifyUserVirtualCurrencyResult>();
@@ -421,7 +413,7 @@ public class PlayFabServerAPI {
     public static FutureTask<PlayFabResult<AuthenticateSessionTicketResult>> AuthenticateSessionTicketAsync(final AuthenticateSessionTicketRequest request) {
         return new FutureTask(new Callable<PlayFabResult<AuthenticateSessionTicketResult>>() {
             public PlayFabResult<AuthenticateSessionTicketResult> call() throws Exception {
-                return privateAuthenticateSessionTicketAsync(request);
+                return privateAuthenticateSessionTicketAsync(null, request);
             }
         });
     }
@@ -435,7 +427,7 @@ public class PlayFabServerAPI {
     public static PlayFabResult<AuthenticateSessionTicketResult> AuthenticateSessionTicket(final AuthenticateSessionTicketRequest request) {
         FutureTask<PlayFabResult<AuthenticateSessionTicketResult>> task = new FutureTask(new Callable<PlayFabResult<AuthenticateSessionTicketResult>>() {
             public PlayFabResult<AuthenticateSessionTicketResult> call() throws Exception {
-                return privateAuthenticateSessionTicketAsync(request);
+                return privateAuthenticateSessionTicketAsync(null, request);
             }
         });
         try {
@@ -450,10 +442,11 @@ public class PlayFabServerAPI {
 
     /** Validated a client's session ticket, and if successful, returns details for that user */
     @SuppressWarnings("unchecked")
-    private static PlayFabResult<AuthenticateSessionTicketResult> privateAuthenticateSessionTicketAsync(final AuthenticateSessionTicketRequest request) throws Exception {
-        if (PlayFabSettings.DeveloperSecretKey == null) throw new Exception ("Must have PlayFabSettings.DeveloperSecretKey set to call this method");
+    static PlayFabResult<AuthenticateSessionTicketResult> privateAuthenticateSessionTicketAsync(final PlayFabInstanceAPI instance, final AuthenticateSessionTicketRequest request) throws Exception {
+        final PlayFabApiContext context = PlayFabInstanceAPI.contextOf(instance);
+        if (context.getDeveloperSecretKey() == null) throw new Exception ("Must have PlayFabSettings.DeveloperSecretKey set to call this method");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Server/AuthenticateSessionTicket"), request, "X-SecretKey", PlayFabSettings.DeveloperSecretKey);
+        FutureTask<Object> task = PlayFabHTTP.doPost(context.getURL("/Server/AuthenticateSessionTicket"), request, "X-SecretKey", context.getDeveloperSecretKey(), AuthenticateSessionTicketResult.class);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -464,9 +457,7 @@ public class PlayFabServerAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
-
-        PlayFabJsonSuccess<AuthenticateSessionTicketResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<AuthenticateSessionTicketResult>>(){}.getType());
+        PlayFabJsonSuccess<AuthenticateSessionTicketResult> resultData = (PlayFabJsonSuccess<AuthenticateSessionTicketResult>) httpResult;
         AuthenticateSessionTicketResult result = resultData.data;
 
         PlayFabResult<AuthenticateSessionTicketResult> pfResult = new PlayFabResult<AuthenticateSessionTicketResult>();
@@ -483,7 +474,7 @@ public class PlayFabServerAPI {
     public static FutureTask<PlayFabResult<AwardSteamAchievementResult>> AwardSteamAchievementAsync(final AwardSteamAchievementRequest request) {
         return new FutureTask(new Callable<PlayFabResult<AwardSteamAchievementResult>>() {
             public PlayFabResult<AwardSteamAchievementResult> call() throws Exception {
-                return privateAwardSteamAchievementAsync(request);
+                return privateAwardSteamAchievementAsync(null, request);
             }
         });
     }
@@ -497,7 +488,7 @@ public class PlayFabServerAPI {
     public static PlayFabResult<AwardSteamAchievementResult> AwardSteamAchievement(final AwardSteamAchievementRequest request) {
         FutureTask<PlayFabResult<AwardSteamAchievementResult>> task = new FutureTask(new Callable<PlayFabResult<AwardSteamAchievementResult>>() {
             public PlayFabResult<AwardSteamAchievementResult> call() throws Exception {
-                return privateAwardSteamAchievementAsync(request);
+                return privateAwardSteamAchievementAsync(null, request);
             }
         });
         try {
@@ -512,10 +503,11 @@ public class PlayFabServerAPI {
 
     /** Awards the specified users the specified Steam achievements */
     @SuppressWarnings("unchecked")
-    private static PlayFabResult<AwardSteamAchievementResult> privateAwardSteamAchievementAsync(final AwardSteamAchievementRequest request) throws Exception {
-        if (PlayFabSettings.DeveloperSecretKey == null) throw new Exception ("Must have PlayFabSettings.DeveloperSecretKey set to call this method");
+    static PlayFabResult<AwardSteamAchievementResult> privateAwardSteamAchievementAsync(final PlayFabInstanceAPI instance, final AwardSteamAchievementRequest request) throws Exception {
+        final PlayFabApiContext context = PlayFabInstanceAPI.contextOf(instance);
+        if (context.getDeveloperSecretKey() == null) throw new Exception ("Must have PlayFabSettings.DeveloperSecretKey set to call this method");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Server/AwardSteamAchievement"), request, "X-SecretKey", PlayFabSettings.DeveloperSecretKey);
+        FutureTask<Object> task = PlayFabHTTP.doPost(context.getURL("/Server/AwardSteamAchievement"), request, "X-SecretKey", context.getDeveloperSecretKey(), AwardSteamAchievementResult.class);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -526,9 +518,7 @@ public class PlayFabServerAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
-
-        PlayFabJsonSuccess<AwardSteamAchievementResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<AwardSteamAchievementResult>>(){}.getType());
+        PlayFabJsonSuccess<AwardSteamAchievementResult> resultData = (PlayFabJsonSuccess<AwardSteamAchievementResult>) httpResult;
         AwardSteamAchievementResult result = resultData.data;
 
         PlayFabResult<AwardSteamAchievementResult> pfResult = new PlayFabResult<AwardSteamAchievementResult>();
@@ -545,7 +535,7 @@ public class PlayFabServerAPI {
     public static FutureTask<PlayFabResult<BanUsersResult>> BanUsersAsync(final BanUsersRequest request) {
         return new FutureTask(new Callable<PlayFabResult<BanUsersResult>>() {
             public PlayFabResult<BanUsersResult> call() throws Exception {
-                return privateBanUsersAsync(request);
+                return privateBanUsersAsync(null, request);
             }
         });
     }
@@ -559,7 +549,7 @@ public class PlayFabServerAPI {
     public static PlayFabResult<BanUsersResult> BanUsers(final BanUsersRequest request) {
         FutureTask<PlayFabResult<BanUsersResult>> task = new FutureTask(new Callable<PlayFabResult<BanUsersResult>>() {
             public PlayFabResult<BanUsersResult> call() throws Exception {
-                return privateBanUsersAsync(request);
+                return privateBanUsersAsync(null, request);
             }
         });
         try {
@@ -574,10 +564,11 @@ public class PlayFabServerAPI {
 
     /** Bans users by PlayFab ID with optional IP address, or MAC address for the provided game. */
     @SuppressWarnings("unchecked")
-    private static PlayFabResult<BanUsersResult> privateBanUsersAsync(final BanUsersRequest request) throws Exception {
-        if (PlayFabSettings.DeveloperSecretKey == null) throw new Exception ("Must have PlayFabSettings.DeveloperSecretKey set to call this method");
+    static PlayFabResult<BanUsersResult> privateBanUsersAsync(final PlayFabInstanceAPI instance, final BanUsersRequest request) throws Exception {
+        final PlayFabApiContext context = PlayFabInstanceAPI.contextOf(instance);
+        if (context.getDeveloperSecretKey() == null) throw new Exception ("Must have PlayFabSettings.DeveloperSecretKey set to call this method");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Server/BanUsers"), request, "X-SecretKey", PlayFabSettings.DeveloperSecretKey);
+        FutureTask<Object> task = PlayFabHTTP.doPost(context.getURL("/Server/BanUsers"), request, "X-SecretKey", context.getDeveloperSecretKey(), BanUsersResult.class);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -588,9 +579,7 @@ public class PlayFabServerAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
-
-        PlayFabJsonSuccess<BanUsersResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<BanUsersResult>>(){}.getType());
+        PlayFabJsonSuccess<BanUsersResult> resultData = (PlayFabJsonSuccess<BanUsersResult>) httpResult;
         BanUsersResult result = resultData.data;
 
         PlayFabResult<BanUsersResult> pfResult = new PlayFabResult<BanUsersResult>();
@@ -607,7 +596,7 @@ public class PlayFabServerAPI {
     public static FutureTask<PlayFabResult<ConsumeItemResult>> ConsumeItemAsync(final ConsumeItemRequest request) {
         return new FutureTask(new Callable<PlayFabResult<ConsumeItemResult>>() {
             public PlayFabResult<ConsumeItemResult> call() throws Exception {
-                return privateConsumeItemAsync(request);
+                return privateConsumeItemAsync(null, request);
             }
         });
     }
@@ -621,7 +610,7 @@ public class PlayFabServerAPI {
     public static PlayFabResult<ConsumeItemResult> ConsumeItem(final ConsumeItemRequest request) {
         FutureTask<PlayFabResult<ConsumeItemResult>> task = new FutureTask(new Callable<PlayFabResult<ConsumeItemResult>>() {
             public PlayFabResult<ConsumeItemResult> call() throws Exception {
-                return privateConsumeItemAsync(request);
+                return privateConsumeItemAsync(null, request);
             }
         });
         try {
@@ -636,10 +625,11 @@ public class PlayFabServerAPI {
 
     /** Consume uses of a consumable item. When all uses are consumed, it will be removed from the player's inventory. */
     @SuppressWarnings("unchecked")
-    private static PlayFabResult<ConsumeItemResult> privateConsumeItemAsync(final ConsumeItemRequest request) throws Exception {
-        if (PlayFabSettings.DeveloperSecretKey == null) throw new Exception ("Must have PlayFabSettings.DeveloperSecretKey set to call this method");
+    static PlayFabResult<ConsumeItemResult> privateConsumeItemAsync(final PlayFabInstanceAPI instance, final ConsumeItemRequest request) throws Exception {
+        final PlayFabApiContext context = PlayFabInstanceAPI.contextOf(instance);
+        if (context.getDeveloperSecretKey() == null) throw new Exception ("Must have PlayFabSettings.DeveloperSecretKey set to call this method");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Server/ConsumeItem"), request, "X-SecretKey", PlayFabSettings.DeveloperSecretKey);
+        FutureTask<Object> task = PlayFabHTTP.doPost(context.getURL("/Server/ConsumeItem"), request, "X-SecretKey", context.getDeveloperSecretKey(), ConsumeItemResult.class);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -650,9 +640,7 @@ public class PlayFabServerAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
-
-        PlayFabJsonSuccess<ConsumeItemResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<ConsumeItemResult>>(){}.getType());
+        PlayFabJsonSuccess<ConsumeItemResult> resultData = (PlayFabJsonSuccess<ConsumeItemResult>) httpResult;
         ConsumeItemResult result = resultData.data;
 
         PlayFabResult<ConsumeItemResult> pfResult = new PlayFabResult<ConsumeItemResult>();
@@ -672,7 +660,7 @@ public class PlayFabServerAPI {
     public static FutureTask<PlayFabResult<CreateSharedGroupResult>> CreateSharedGroupAsync(final CreateSharedGroupRequest request) {
         return new FutureTask(new Callable<PlayFabResult<CreateSharedGroupResult>>() {
             public PlayFabResult<CreateSharedGroupResult> call() throws Exception {
-                return privateCreateSharedGroupAsync(request);
+                return privateCreateSharedGroupAsync(null, request);
             }
         });
     }
@@ -689,7 +677,7 @@ public class PlayFabServerAPI {
     public static PlayFabResult<CreateSharedGroupResult> CreateSharedGroup(final CreateSharedGroupRequest request) {
         FutureTask<PlayFabResult<CreateSharedGroupResult>> task = new FutureTask(new Callable<PlayFabResult<CreateSharedGroupResult>>() {
             public PlayFabResult<CreateSharedGroupResult> call() throws Exception {
-                return privateCreateSharedGroupAsync(request);
+                return privateCreateSharedGroupAsync(null, request);
             }
         });
         try {
@@ -709,10 +697,11 @@ public class PlayFabServerAPI {
      * https://docs.microsoft.com/gaming/playfab/features/social/groups/using-shared-group-data
      */
     @SuppressWarnings("unchecked")
-    private static PlayFabResult<CreateSharedGroupResult> privateCreateSharedGroupAsync(final CreateSharedGroupRequest request) throws Exception {
-        if (PlayFabSettings.DeveloperSecretKey == null) throw new Exception ("Must have PlayFabSettings.DeveloperSecretKey set to call this method");
+    static PlayFabResult<CreateSharedGroupResult> privateCreateSharedGroupAsync(final PlayFabInstanceAPI instance, final CreateSharedGroupRequest request) throws Exception {
+        final PlayFabApiContext context = PlayFabInstanceAPI.contextOf(instance);
+        if (context.getDeveloperSecretKey() == null) throw new Exception ("Must have PlayFabSettings.DeveloperSecretKey set to call this method");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Server/CreateSharedGroup"), request, "X-SecretKey", PlayFabSettings.DeveloperSecretKey);
+        FutureTask<Object> task = PlayFabHTTP.doPost(context.getURL("/Server/CreateSharedGroup"), request, "X-SecretKey", context.getDeveloperSecretKey(), CreateSharedGroupResult.class);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -723,9 +712,7 @@ public class PlayFabServerAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
-
-        PlayFabJsonSuccess<CreateSharedGroupResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<CreateSharedGroupResult>>(){}.getType());
+        PlayFabJsonSuccess<CreateSharedGroupResult> resultData = (PlayFabJsonSuccess<CreateSharedGroupResult>) httpResult;
         CreateSharedGroupResult result = resultData.data;
 
         PlayFabResult<CreateSharedGroupResult> pfResult = new PlayFabResult<CreateSharedGroupResult>();
@@ -742,7 +729,7 @@ public class PlayFabServerAPI {
     public static FutureTask<PlayFabResult<DeleteCharacterFromUserResult>> DeleteCharacterFromUserAsync(final DeleteCharacterFromUserRequest request) {
         return new FutureTask(new Callable<PlayFabResult<DeleteCharacterFromUserResult>>() {
             public PlayFabResult<DeleteCharacterFromUserResult> call() throws Exception {
-                return privateDeleteCharacterFromUserAsync(request);
+                return privateDeleteCharacterFromUserAsync(null, request);
             }
         });
     }
@@ -756,7 +743,7 @@ public class PlayFabServerAPI {
     public static PlayFabResult<DeleteCharacterFromUserResult> DeleteCharacterFromUser(final DeleteCharacterFromUserRequest request) {
         FutureTask<PlayFabResult<DeleteCharacterFromUserResult>> task = new FutureTask(new Callable<PlayFabResult<DeleteCharacterFromUserResult>>() {
             public PlayFabResult<DeleteCharacterFromUserResult> call() throws Exception {
-                return privateDeleteCharacterFromUserAsync(request);
+                return privateDeleteCharacterFromUserAsync(null, request);
             }
         });
         try {
@@ -771,10 +758,11 @@ public class PlayFabServerAPI {
 
     /** Deletes the specific character ID from the specified user. */
     @SuppressWarnings("unchecked")
-    private static PlayFabResult<DeleteCharacterFromUserResult> privateDeleteCharacterFromUserAsync(final DeleteCharacterFromUserRequest request) throws Exception {
-        if (PlayFabSettings.DeveloperSecretKey == null) throw new Exception ("Must have PlayFabSettings.DeveloperSecretKey set to call this method");
+    static PlayFabResult<DeleteCharacterFromUserResult> privateDeleteCharacterFromUserAsync(final PlayFabInstanceAPI instance, final DeleteCharacterFromUserRequest request) throws Exception {
+        final PlayFabApiContext context = PlayFabInstanceAPI.contextOf(instance);
+        if (context.getDeveloperSecretKey() == null) throw new Exception ("Must have PlayFabSettings.DeveloperSecretKey set to call this method");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Server/DeleteCharacterFromUser"), request, "X-SecretKey", PlayFabSettings.DeveloperSecretKey);
+        FutureTask<Object> task = PlayFabHTTP.doPost(context.getURL("/Server/DeleteCharacterFromUser"), request, "X-SecretKey", context.getDeveloperSecretKey(), DeleteCharacterFromUserResult.class);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -785,9 +773,7 @@ public class PlayFabServerAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
-
-        PlayFabJsonSuccess<DeleteCharacterFromUserResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<DeleteCharacterFromUserResult>>(){}.getType());
+        PlayFabJsonSuccess<DeleteCharacterFromUserResult> resultData = (PlayFabJsonSuccess<DeleteCharacterFromUserResult>) httpResult;
         DeleteCharacterFromUserResult result = resultData.data;
 
         PlayFabResult<DeleteCharacterFromUserResult> pfResult = new PlayFabResult<DeleteCharacterFromUserResult>();
@@ -804,7 +790,7 @@ public class PlayFabServerAPI {
     public static FutureTask<PlayFabResult<DeletePlayerResult>> DeletePlayerAsync(final DeletePlayerRequest request) {
         return new FutureTask(new Callable<PlayFabResult<DeletePlayerResult>>() {
             public PlayFabResult<DeletePlayerResult> call() throws Exception {
-                return privateDeletePlayerAsync(request);
+                return privateDeletePlayerAsync(null, request);
             }
         });
     }
@@ -818,7 +804,7 @@ public class PlayFabServerAPI {
     public static PlayFabResult<DeletePlayerResult> DeletePlayer(final DeletePlayerRequest request) {
         FutureTask<PlayFabResult<DeletePlayerResult>> task = new FutureTask(new Callable<PlayFabResult<DeletePlayerResult>>() {
             public PlayFabResult<DeletePlayerResult> call() throws Exception {
-                return privateDeletePlayerAsync(request);
+                return privateDeletePlayerAsync(null, request);
             }
         });
         try {
@@ -833,10 +819,11 @@ public class PlayFabServerAPI {
 
     /** Removes a user's player account from a title and deletes all associated data */
     @SuppressWarnings("unchecked")
-    private static PlayFabResult<DeletePlayerResult> privateDeletePlayerAsync(final DeletePlayerRequest request) throws Exception {
-        if (PlayFabSettings.DeveloperSecretKey == null) throw new Exception ("Must have PlayFabSettings.DeveloperSecretKey set to call this method");
+    static PlayFabResult<DeletePlayerResult> privateDeletePlayerAsync(final PlayFabInstanceAPI instance, final DeletePlayerRequest request) throws Exception {
+        final PlayFabApiContext context = PlayFabInstanceAPI.contextOf(instance);
+        if (context.getDeveloperSecretKey() == null) throw new Exception ("Must have PlayFabSettings.DeveloperSecretKey set to call this method");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Server/DeletePlayer"), request, "X-SecretKey", PlayFabSettings.DeveloperSecretKey);
+        FutureTask<Object> task = PlayFabHTTP.doPost(context.getURL("/Server/DeletePlayer"), request, "X-SecretKey", context.getDeveloperSecretKey(), DeletePlayerResult.class);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -847,9 +834,7 @@ public class PlayFabServerAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
-
-        PlayFabJsonSuccess<DeletePlayerResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<DeletePlayerResult>>(){}.getType());
+        PlayFabJsonSuccess<DeletePlayerResult> resultData = (PlayFabJsonSuccess<DeletePlayerResult>) httpResult;
         DeletePlayerResult result = resultData.data;
 
         PlayFabResult<DeletePlayerResult> pfResult = new PlayFabResult<DeletePlayerResult>();
@@ -866,7 +851,7 @@ public class PlayFabServerAPI {
     public static FutureTask<PlayFabResult<DeletePushNotificationTemplateResult>> DeletePushNotificationTemplateAsync(final DeletePushNotificationTemplateRequest request) {
         return new FutureTask(new Callable<PlayFabResult<DeletePushNotificationTemplateResult>>() {
             public PlayFabResult<DeletePushNotificationTemplateResult> call() throws Exception {
-                return privateDeletePushNotificationTemplateAsync(request);
+                return privateDeletePushNotificationTemplateAsync(null, request);
             }
         });
     }
@@ -880,7 +865,7 @@ public class PlayFabServerAPI {
     public static PlayFabResult<DeletePushNotificationTemplateResult> DeletePushNotificationTemplate(final DeletePushNotificationTemplateRequest request) {
         FutureTask<PlayFabResult<DeletePushNotificationTemplateResult>> task = new FutureTask(new Callable<PlayFabResult<DeletePushNotificationTemplateResult>>() {
             public PlayFabResult<DeletePushNotificationTemplateResult> call() throws Exception {
-                return privateDeletePushNotificationTemplateAsync(request);
+                return privateDeletePushNotificationTemplateAsync(null, request);
             }
         });
         try {
@@ -895,10 +880,11 @@ public class PlayFabServerAPI {
 
     /** Deletes push notification template for title */
     @SuppressWarnings("unchecked")
-    private static PlayFabResult<DeletePushNotificationTemplateResult> privateDeletePushNotificationTemplateAsync(final DeletePushNotificationTemplateRequest request) throws Exception {
-        if (PlayFabSettings.DeveloperSecretKey == null) throw new Exception ("Must have PlayFabSettings.DeveloperSecretKey set to call this method");
+    static PlayFabResult<DeletePushNotificationTemplateResult> privateDeletePushNotificationTemplateAsync(final PlayFabInstanceAPI instance, final DeletePushNotificationTemplateRequest request) throws Exception {
+        final PlayFabApiContext context = PlayFabInstanceAPI.contextOf(instance);
+        if (context.getDeveloperSecretKey() == null) throw new Exception ("Must have PlayFabSettings.DeveloperSecretKey set to call this method");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Server/DeletePushNotificationTemplate"), request, "X-SecretKey", PlayFabSettings.DeveloperSecretKey);
+        FutureTask<Object> task = PlayFabHTTP.doPost(context.getURL("/Server/DeletePushNotificationTemplate"), request, "X-SecretKey", context.getDeveloperSecretKey(), DeletePushNotificationTemplateResult.class);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -909,9 +895,7 @@ public class PlayFabServerAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
-
-        PlayFabJsonSuccess<DeletePushNotificationTemplateResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<DeletePushNotificationTemplateResult>>(){}.getType());
+        PlayFabJsonSuccess<DeletePushNotificationTemplateResult> resultData = (PlayFabJsonSuccess<DeletePushNotificationTemplateResult>) httpResult;
         DeletePushNotificationTemplateResult result = resultData.data;
 
         PlayFabResult<DeletePushNotificationTemplateResult> pfResult = new PlayFabResult<DeletePushNotificationTemplateResult>();
@@ -930,7 +914,7 @@ public class PlayFabServerAPI {
     public static FutureTask<PlayFabResult<EmptyResponse>> DeleteSharedGroupAsync(final DeleteSharedGroupRequest request) {
         return new FutureTask(new Callable<PlayFabResult<EmptyResponse>>() {
             public PlayFabResult<EmptyResponse> call() throws Exception {
-                return privateDeleteSharedGroupAsync(request);
+                return privateDeleteSharedGroupAsync(null, request);
             }
         });
     }
@@ -946,7 +930,7 @@ public class PlayFabServerAPI {
     public static PlayFabResult<EmptyResponse> DeleteSharedGroup(final DeleteSharedGroupRequest request) {
         FutureTask<PlayFabResult<EmptyResponse>> task = new FutureTask(new Callable<PlayFabResult<EmptyResponse>>() {
             public PlayFabResult<EmptyResponse> call() throws Exception {
-                return privateDeleteSharedGroupAsync(request);
+                return privateDeleteSharedGroupAsync(null, request);
             }
         });
         try {
@@ -965,10 +949,11 @@ public class PlayFabServerAPI {
      * https://docs.microsoft.com/gaming/playfab/features/social/groups/using-shared-group-data
      */
     @SuppressWarnings("unchecked")
-    private static PlayFabResult<EmptyResponse> privateDeleteSharedGroupAsync(final DeleteSharedGroupRequest request) throws Exception {
-        if (PlayFabSettings.DeveloperSecretKey == null) throw new Exception ("Must have PlayFabSettings.DeveloperSecretKey set to call this method");
+    static PlayFabResult<EmptyResponse> privateDeleteSharedGroupAsync(final PlayFabInstanceAPI instance, final DeleteSharedGroupRequest request) throws Exception {
+        final PlayFabApiContext context = PlayFabInstanceAPI.contextOf(instance);
+        if (context.getDeveloperSecretKey() == null) throw new Exception ("Must have PlayFabSettings.DeveloperSecretKey set to call this method");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Server/DeleteSharedGroup"), request, "X-SecretKey", PlayFabSettings.DeveloperSecretKey);
+        FutureTask<Object> task = PlayFabHTTP.doPost(context.getURL("/Server/DeleteSharedGroup"), request, "X-SecretKey", context.getDeveloperSecretKey(), EmptyResponse.class);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -979,9 +964,7 @@ public class PlayFabServerAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
-
-        PlayFabJsonSuccess<EmptyResponse> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<EmptyResponse>>(){}.getType());
+        PlayFabJsonSuccess<EmptyResponse> resultData = (PlayFabJsonSuccess<EmptyResponse>) httpResult;
         EmptyResponse result = resultData.data;
 
         PlayFabResult<EmptyResponse> pfResult = new PlayFabResult<EmptyResponse>();
@@ -998,7 +981,7 @@ public class PlayFabServerAPI {
     public static FutureTask<PlayFabResult<DeregisterGameResponse>> DeregisterGameAsync(final DeregisterGameRequest request) {
         return new FutureTask(new Callable<PlayFabResult<DeregisterGameResponse>>() {
             public PlayFabResult<DeregisterGameResponse> call() throws Exception {
-                return privateDeregisterGameAsync(request);
+                return privateDeregisterGameAsync(null, request);
             }
         });
     }
@@ -1012,7 +995,7 @@ public class PlayFabServerAPI {
     public static PlayFabResult<DeregisterGameResponse> DeregisterGame(final DeregisterGameRequest request) {
         FutureTask<PlayFabResult<DeregisterGameResponse>> task = new FutureTask(new Callable<PlayFabResult<DeregisterGameResponse>>() {
             public PlayFabResult<DeregisterGameResponse> call() throws Exception {
-                return privateDeregisterGameAsync(request);
+                return privateDeregisterGameAsync(null, request);
             }
         });
         try {
@@ -1027,10 +1010,11 @@ public class PlayFabServerAPI {
 
     /** Inform the matchmaker that a Game Server Instance is removed. */
     @SuppressWarnings("unchecked")
-    private static PlayFabResult<DeregisterGameResponse> privateDeregisterGameAsync(final DeregisterGameRequest request) throws Exception {
-        if (PlayFabSettings.DeveloperSecretKey == null) throw new Exception ("Must have PlayFabSettings.DeveloperSecretKey set to call this method");
+    static PlayFabResult<DeregisterGameResponse> privateDeregisterGameAsync(final PlayFabInstanceAPI instance, final DeregisterGameRequest request) throws Exception {
+        final PlayFabApiContext context = PlayFabInstanceAPI.contextOf(instance);
+        if (context.getDeveloperSecretKey() == null) throw new Exception ("Must have PlayFabSettings.DeveloperSecretKey set to call this method");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Server/DeregisterGame"), request, "X-SecretKey", PlayFabSettings.DeveloperSecretKey);
+        FutureTask<Object> task = PlayFabHTTP.doPost(context.getURL("/Server/DeregisterGame"), request, "X-SecretKey", context.getDeveloperSecretKey(), DeregisterGameResponse.class);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -1041,9 +1025,7 @@ public class PlayFabServerAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
-
-        PlayFabJsonSuccess<DeregisterGameResponse> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<DeregisterGameResponse>>(){}.getType());
+        PlayFabJsonSuccess<DeregisterGameResponse> resultData = (PlayFabJsonSuccess<DeregisterGameResponse>) httpResult;
         DeregisterGameResponse result = resultData.data;
 
         PlayFabResult<DeregisterGameResponse> pfResult = new PlayFabResult<DeregisterGameResponse>();
@@ -1061,7 +1043,7 @@ public class PlayFabServerAPI {
     public static FutureTask<PlayFabResult<EvaluateRandomResultTableResult>> EvaluateRandomResultTableAsync(final EvaluateRandomResultTableRequest request) {
         return new FutureTask(new Callable<PlayFabResult<EvaluateRandomResultTableResult>>() {
             public PlayFabResult<EvaluateRandomResultTableResult> call() throws Exception {
-                return privateEvaluateRandomResultTableAsync(request);
+                return privateEvaluateRandomResultTableAsync(null, request);
             }
         });
     }
@@ -1076,7 +1058,7 @@ public class PlayFabServerAPI {
     public static PlayFabResult<EvaluateRandomResultTableResult> EvaluateRandomResultTable(final EvaluateRandomResultTableRequest request) {
         FutureTask<PlayFabResult<EvaluateRandomResultTableResult>> task = new FutureTask(new Callable<PlayFabResult<EvaluateRandomResultTableResult>>() {
             public PlayFabResult<EvaluateRandomResultTableResult> call() throws Exception {
-                return privateEvaluateRandomResultTableAsync(request);
+                return privateEvaluateRandomResultTableAsync(null, request);
             }
         });
         try {
@@ -1094,10 +1076,11 @@ public class PlayFabServerAPI {
      * added to the player inventory, if the Random Result Table were added via a Bundle or a call to UnlockContainer.
      */
     @SuppressWarnings("unchecked")
-    private static PlayFabResult<EvaluateRandomResultTableResult> privateEvaluateRandomResultTableAsync(final EvaluateRandomResultTableRequest request) throws Exception {
-        if (PlayFabSettings.DeveloperSecretKey == null) throw new Exception ("Must have PlayFabSettings.DeveloperSecretKey set to call this method");
+    static PlayFabResult<EvaluateRandomResultTableResult> privateEvaluateRandomResultTableAsync(final PlayFabInstanceAPI instance, final EvaluateRandomResultTableRequest request) throws Exception {
+        final PlayFabApiContext context = PlayFabInstanceAPI.contextOf(instance);
+        if (context.getDeveloperSecretKey() == null) throw new Exception ("Must have PlayFabSettings.DeveloperSecretKey set to call this method");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Server/EvaluateRandomResultTable"), request, "X-SecretKey", PlayFabSettings.DeveloperSecretKey);
+        FutureTask<Object> task = PlayFabHTTP.doPost(context.getURL("/Server/EvaluateRandomResultTable"), request, "X-SecretKey", context.getDeveloperSecretKey(), EvaluateRandomResultTableResult.class);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -1108,9 +1091,7 @@ public class PlayFabServerAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
-
-        PlayFabJsonSuccess<EvaluateRandomResultTableResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<EvaluateRandomResultTableResult>>(){}.getType());
+        PlayFabJsonSuccess<EvaluateRandomResultTableResult> resultData = (PlayFabJsonSuccess<EvaluateRandomResultTableResult>) httpResult;
         EvaluateRandomResultTableResult result = resultData.data;
 
         PlayFabResult<EvaluateRandomResultTableResult> pfResult = new PlayFabResult<EvaluateRandomResultTableResult>();
@@ -1127,7 +1108,7 @@ public class PlayFabServerAPI {
     public static FutureTask<PlayFabResult<ExecuteCloudScriptResult>> ExecuteCloudScriptAsync(final ExecuteCloudScriptServerRequest request) {
         return new FutureTask(new Callable<PlayFabResult<ExecuteCloudScriptResult>>() {
             public PlayFabResult<ExecuteCloudScriptResult> call() throws Exception {
-                return privateExecuteCloudScriptAsync(request);
+                return privateExecuteCloudScriptAsync(null, request);
             }
         });
     }
@@ -1141,7 +1122,7 @@ public class PlayFabServerAPI {
     public static PlayFabResult<ExecuteCloudScriptResult> ExecuteCloudScript(final ExecuteCloudScriptServerRequest request) {
         FutureTask<PlayFabResult<ExecuteCloudScriptResult>> task = new FutureTask(new Callable<PlayFabResult<ExecuteCloudScriptResult>>() {
             public PlayFabResult<ExecuteCloudScriptResult> call() throws Exception {
-                return privateExecuteCloudScriptAsync(request);
+                return privateExecuteCloudScriptAsync(null, request);
             }
         });
         try {
@@ -1156,10 +1137,11 @@ public class PlayFabServerAPI {
 
     /** Executes a CloudScript function, with the 'currentPlayerId' variable set to the specified PlayFabId parameter value. */
     @SuppressWarnings("unchecked")
-    private static PlayFabResult<ExecuteCloudScriptResult> privateExecuteCloudScriptAsync(final ExecuteCloudScriptServerRequest request) throws Exception {
-        if (PlayFabSettings.DeveloperSecretKey == null) throw new Exception ("Must have PlayFabSettings.DeveloperSecretKey set to call this method");
+    static PlayFabResult<ExecuteCloudScriptResult> privateExecuteCloudScriptAsync(final PlayFabInstanceAPI instance, final ExecuteCloudScriptServerRequest request) throws Exception {
+        final PlayFabApiContext context = PlayFabInstanceAPI.contextOf(instance);
+        if (context.getDeveloperSecretKey() == null) throw new Exception ("Must have PlayFabSettings.DeveloperSecretKey set to call this method");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Server/ExecuteCloudScript"), request, "X-SecretKey", PlayFabSettings.DeveloperSecretKey);
+        FutureTask<Object> task = PlayFabHTTP.doPost(context.getURL("/Server/ExecuteCloudScript"), request, "X-SecretKey", context.getDeveloperSecretKey(), ExecuteCloudScriptResult.class);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -1170,9 +1152,7 @@ public class PlayFabServerAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
-
-        PlayFabJsonSuccess<ExecuteCloudScriptResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<ExecuteCloudScriptResult>>(){}.getType());
+        PlayFabJsonSuccess<ExecuteCloudScriptResult> resultData = (PlayFabJsonSuccess<ExecuteCloudScriptResult>) httpResult;
         ExecuteCloudScriptResult result = resultData.data;
 
         PlayFabResult<ExecuteCloudScriptResult> pfResult = new PlayFabResult<ExecuteCloudScriptResult>();
@@ -1190,7 +1170,7 @@ public class PlayFabServerAPI {
     public static FutureTask<PlayFabResult<GetAllSegmentsResult>> GetAllSegmentsAsync(final GetAllSegmentsRequest request) {
         return new FutureTask(new Callable<PlayFabResult<GetAllSegmentsResult>>() {
             public PlayFabResult<GetAllSegmentsResult> call() throws Exception {
-                return privateGetAllSegmentsAsync(request);
+                return privateGetAllSegmentsAsync(null, request);
             }
         });
     }
@@ -1205,7 +1185,7 @@ public class PlayFabServerAPI {
     public static PlayFabResult<GetAllSegmentsResult> GetAllSegments(final GetAllSegmentsRequest request) {
         FutureTask<PlayFabResult<GetAllSegmentsResult>> task = new FutureTask(new Callable<PlayFabResult<GetAllSegmentsResult>>() {
             public PlayFabResult<GetAllSegmentsResult> call() throws Exception {
-                return privateGetAllSegmentsAsync(request);
+                return privateGetAllSegmentsAsync(null, request);
             }
         });
         try {
@@ -1223,10 +1203,11 @@ public class PlayFabServerAPI {
      * GetPlayersInSegment which requires a Segment ID. While segment names can change the ID for that segment will not change.
      */
     @SuppressWarnings("unchecked")
-    private static PlayFabResult<GetAllSegmentsResult> privateGetAllSegmentsAsync(final GetAllSegmentsRequest request) throws Exception {
-        if (PlayFabSettings.DeveloperSecretKey == null) throw new Exception ("Must have PlayFabSettings.DeveloperSecretKey set to call this method");
+    static PlayFabResult<GetAllSegmentsResult> privateGetAllSegmentsAsync(final PlayFabInstanceAPI instance, final GetAllSegmentsRequest request) throws Exception {
+        final PlayFabApiContext context = PlayFabInstanceAPI.contextOf(instance);
+        if (context.getDeveloperSecretKey() == null) throw new Exception ("Must have PlayFabSettings.DeveloperSecretKey set to call this method");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Server/GetAllSegments"), request, "X-SecretKey", PlayFabSettings.DeveloperSecretKey);
+        FutureTask<Object> task = PlayFabHTTP.doPost(context.getURL("/Server/GetAllSegments"), request, "X-SecretKey", context.getDeveloperSecretKey(), GetAllSegmentsResult.class);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -1237,9 +1218,7 @@ public class PlayFabServerAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
-
-        PlayFabJsonSuccess<GetAllSegmentsResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<GetAllSegmentsResult>>(){}.getType());
+        PlayFabJsonSuccess<GetAllSegmentsResult> resultData = (PlayFabJsonSuccess<GetAllSegmentsResult>) httpResult;
         GetAllSegmentsResult result = resultData.data;
 
         PlayFabResult<GetAllSegmentsResult> pfResult = new PlayFabResult<GetAllSegmentsResult>();
@@ -1257,7 +1236,7 @@ public class PlayFabServerAPI {
     public static FutureTask<PlayFabResult<ListUsersCharactersResult>> GetAllUsersCharactersAsync(final ListUsersCharactersRequest request) {
         return new FutureTask(new Callable<PlayFabResult<ListUsersCharactersResult>>() {
             public PlayFabResult<ListUsersCharactersResult> call() throws Exception {
-                return privateGetAllUsersCharactersAsync(request);
+                return privateGetAllUsersCharactersAsync(null, request);
             }
         });
     }
@@ -1272,7 +1251,7 @@ public class PlayFabServerAPI {
     public static PlayFabResult<ListUsersCharactersResult> GetAllUsersCharacters(final ListUsersCharactersRequest request) {
         FutureTask<PlayFabResult<ListUsersCharactersResult>> task = new FutureTask(new Callable<PlayFabResult<ListUsersCharactersResult>>() {
             public PlayFabResult<ListUsersCharactersResult> call() throws Exception {
-                return privateGetAllUsersCharactersAsync(request);
+                return privateGetAllUsersCharactersAsync(null, request);
             }
         });
         try {
@@ -1290,10 +1269,11 @@ public class PlayFabServerAPI {
      * evaluated with the parent PlayFabId to guarantee uniqueness.
      */
     @SuppressWarnings("unchecked")
-    private static PlayFabResult<ListUsersCharactersResult> privateGetAllUsersCharactersAsync(final ListUsersCharactersRequest request) throws Exception {
-        if (PlayFabSettings.DeveloperSecretKey == null) throw new Exception ("Must have PlayFabSettings.DeveloperSecretKey set to call this method");
+    static PlayFabResult<ListUsersCharactersResult> privateGetAllUsersCharactersAsync(final PlayFabInstanceAPI instance, final ListUsersCharactersRequest request) throws Exception {
+        final PlayFabApiContext context = PlayFabInstanceAPI.contextOf(instance);
+        if (context.getDeveloperSecretKey() == null) throw new Exception ("Must have PlayFabSettings.DeveloperSecretKey set to call this method");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Server/GetAllUsersCharacters"), request, "X-SecretKey", PlayFabSettings.DeveloperSecretKey);
+        FutureTask<Object> task = PlayFabHTTP.doPost(context.getURL("/Server/GetAllUsersCharacters"), request, "X-SecretKey", context.getDeveloperSecretKey(), ListUsersCharactersResult.class);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -1304,9 +1284,7 @@ public class PlayFabServerAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
-
-        PlayFabJsonSuccess<ListUsersCharactersResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<ListUsersCharactersResult>>(){}.getType());
+        PlayFabJsonSuccess<ListUsersCharactersResult> resultData = (PlayFabJsonSuccess<ListUsersCharactersResult>) httpResult;
         ListUsersCharactersResult result = resultData.data;
 
         PlayFabResult<ListUsersCharactersResult> pfResult = new PlayFabResult<ListUsersCharactersResult>();
@@ -1323,7 +1301,7 @@ public class PlayFabServerAPI {
     public static FutureTask<PlayFabResult<GetCatalogItemsResult>> GetCatalogItemsAsync(final GetCatalogItemsRequest request) {
         return new FutureTask(new Callable<PlayFabResult<GetCatalogItemsResult>>() {
             public PlayFabResult<GetCatalogItemsResult> call() throws Exception {
-                return privateGetCatalogItemsAsync(request);
+                return privateGetCatalogItemsAsync(null, request);
             }
         });
     }
@@ -1337,7 +1315,7 @@ public class PlayFabServerAPI {
     public static PlayFabResult<GetCatalogItemsResult> GetCatalogItems(final GetCatalogItemsRequest request) {
         FutureTask<PlayFabResult<GetCatalogItemsResult>> task = new FutureTask(new Callable<PlayFabResult<GetCatalogItemsResult>>() {
             public PlayFabResult<GetCatalogItemsResult> call() throws Exception {
-                return privateGetCatalogItemsAsync(request);
+                return privateGetCatalogItemsAsync(null, request);
             }
         });
         try {
@@ -1352,10 +1330,11 @@ public class PlayFabServerAPI {
 
     /** Retrieves the specified version of the title's catalog of virtual goods, including all defined properties */
     @SuppressWarnings("unchecked")
-    private static PlayFabResult<GetCatalogItemsResult> privateGetCatalogItemsAsync(final GetCatalogItemsRequest request) throws Exception {
-        if (PlayFabSettings.DeveloperSecretKey == null) throw new Exception ("Must have PlayFabSettings.DeveloperSecretKey set to call this method");
+    static PlayFabResult<GetCatalogItemsResult> privateGetCatalogItemsAsync(final PlayFabInstanceAPI instance, final GetCatalogItemsRequest request) throws Exception {
+        final PlayFabApiContext context = PlayFabInstanceAPI.contextOf(instance);
+        if (context.getDeveloperSecretKey() == null) throw new Exception ("Must have PlayFabSettings.DeveloperSecretKey set to call this method");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Server/GetCatalogItems"), request, "X-SecretKey", PlayFabSettings.DeveloperSecretKey);
+        FutureTask<Object> task = PlayFabHTTP.doPost(context.getURL("/Server/GetCatalogItems"), request, "X-SecretKey", context.getDeveloperSecretKey(), GetCatalogItemsResult.class);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -1366,9 +1345,7 @@ public class PlayFabServerAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
-
-        PlayFabJsonSuccess<GetCatalogItemsResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<GetCatalogItemsResult>>(){}.getType());
+        PlayFabJsonSuccess<GetCatalogItemsResult> resultData = (PlayFabJsonSuccess<GetCatalogItemsResult>) httpResult;
         GetCatalogItemsResult result = resultData.data;
 
         PlayFabResult<GetCatalogItemsResult> pfResult = new PlayFabResult<GetCatalogItemsResult>();
@@ -1385,7 +1362,7 @@ public class PlayFabServerAPI {
     public static FutureTask<PlayFabResult<GetCharacterDataResult>> GetCharacterDataAsync(final GetCharacterDataRequest request) {
         return new FutureTask(new Callable<PlayFabResult<GetCharacterDataResult>>() {
             public PlayFabResult<GetCharacterDataResult> call() throws Exception {
-                return privateGetCharacterDataAsync(request);
+                return privateGetCharacterDataAsync(null, request);
             }
         });
     }
@@ -1399,7 +1376,7 @@ public class PlayFabServerAPI {
     public static PlayFabResult<GetCharacterDataResult> GetCharacterData(final GetCharacterDataRequest request) {
         FutureTask<PlayFabResult<GetCharacterDataResult>> task = new FutureTask(new Callable<PlayFabResult<GetCharacterDataResult>>() {
             public PlayFabResult<GetCharacterDataResult> call() throws Exception {
-                return privateGetCharacterDataAsync(request);
+                return privateGetCharacterDataAsync(null, request);
             }
         });
         try {
@@ -1414,10 +1391,11 @@ public class PlayFabServerAPI {
 
     /** Retrieves the title-specific custom data for the user which is readable and writable by the client */
     @SuppressWarnings("unchecked")
-    private static PlayFabResult<GetCharacterDataResult> privateGetCharacterDataAsync(final GetCharacterDataRequest request) throws Exception {
-        if (PlayFabSettings.DeveloperSecretKey == null) throw new Exception ("Must have PlayFabSettings.DeveloperSecretKey set to call this method");
+    static PlayFabResult<GetCharacterDataResult> privateGetCharacterDataAsync(final PlayFabInstanceAPI instance, final GetCharacterDataRequest request) throws Exception {
+        final PlayFabApiContext context = PlayFabInstanceAPI.contextOf(instance);
+        if (context.getDeveloperSecretKey() == null) throw new Exception ("Must have PlayFabSettings.DeveloperSecretKey set to call this method");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Server/GetCharacterData"), request, "X-SecretKey", PlayFabSettings.DeveloperSecretKey);
+        FutureTask<Object> task = PlayFabHTTP.doPost(context.getURL("/Server/GetCharacterData"), request, "X-SecretKey", context.getDeveloperSecretKey(), GetCharacterDataResult.class);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -1428,9 +1406,7 @@ public class PlayFabServerAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
-
-        PlayFabJsonSuccess<GetCharacterDataResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<GetCharacterDataResult>>(){}.getType());
+        PlayFabJsonSuccess<GetCharacterDataResult> resultData = (PlayFabJsonSuccess<GetCharacterDataResult>) httpResult;
         GetCharacterDataResult result = resultData.data;
 
         PlayFabResult<GetCharacterDataResult> pfResult = new PlayFabResult<GetCharacterDataResult>();
@@ -1447,7 +1423,7 @@ public class PlayFabServerAPI {
     public static FutureTask<PlayFabResult<GetCharacterDataResult>> GetCharacterInternalDataAsync(final GetCharacterDataRequest request) {
         return new FutureTask(new Callable<PlayFabResult<GetCharacterDataResult>>() {
             public PlayFabResult<GetCharacterDataResult> call() throws Exception {
-                return privateGetCharacterInternalDataAsync(request);
+                return privateGetCharacterInternalDataAsync(null, request);
             }
         });
     }
@@ -1461,7 +1437,7 @@ public class PlayFabServerAPI {
     public static PlayFabResult<GetCharacterDataResult> GetCharacterInternalData(final GetCharacterDataRequest request) {
         FutureTask<PlayFabResult<GetCharacterDataResult>> task = new FutureTask(new Callable<PlayFabResult<GetCharacterDataResult>>() {
             public PlayFabResult<GetCharacterDataResult> call() throws Exception {
-                return privateGetCharacterInternalDataAsync(request);
+                return privateGetCharacterInternalDataAsync(null, request);
             }
         });
         try {
@@ -1476,10 +1452,11 @@ public class PlayFabServerAPI {
 
     /** Retrieves the title-specific custom data for the user's character which cannot be accessed by the client */
     @SuppressWarnings("unchecked")
-    private static PlayFabResult<GetCharacterDataResult> privateGetCharacterInternalDataAsync(final GetCharacterDataRequest request) throws Exception {
-        if (PlayFabSettings.DeveloperSecretKey == null) throw new Exception ("Must have PlayFabSettings.DeveloperSecretKey set to call this method");
+    static PlayFabResult<GetCharacterDataResult> privateGetCharacterInternalDataAsync(final PlayFabInstanceAPI instance, final GetCharacterDataRequest request) throws Exception {
+        final PlayFabApiContext context = PlayFabInstanceAPI.contextOf(instance);
+        if (context.getDeveloperSecretKey() == null) throw new Exception ("Must have PlayFabSettings.DeveloperSecretKey set to call this method");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Server/GetCharacterInternalData"), request, "X-SecretKey", PlayFabSettings.DeveloperSecretKey);
+        FutureTask<Object> task = PlayFabHTTP.doPost(context.getURL("/Server/GetCharacterInternalData"), request, "X-SecretKey", context.getDeveloperSecretKey(), GetCharacterDataResult.class);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -1490,9 +1467,7 @@ public class PlayFabServerAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
-
-        PlayFabJsonSuccess<GetCharacterDataResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<GetCharacterDataResult>>(){}.getType());
+        PlayFabJsonSuccess<GetCharacterDataResult> resultData = (PlayFabJsonSuccess<GetCharacterDataResult>) httpResult;
         GetCharacterDataResult result = resultData.data;
 
         PlayFabResult<GetCharacterDataResult> pfResult = new PlayFabResult<GetCharacterDataResult>();
@@ -1509,7 +1484,7 @@ public class PlayFabServerAPI {
     public static FutureTask<PlayFabResult<GetCharacterInventoryResult>> GetCharacterInventoryAsync(final GetCharacterInventoryRequest request) {
         return new FutureTask(new Callable<PlayFabResult<GetCharacterInventoryResult>>() {
             public PlayFabResult<GetCharacterInventoryResult> call() throws Exception {
-                return privateGetCharacterInventoryAsync(request);
+                return privateGetCharacterInventoryAsync(null, request);
             }
         });
     }
@@ -1523,7 +1498,7 @@ public class PlayFabServerAPI {
     public static PlayFabResult<GetCharacterInventoryResult> GetCharacterInventory(final GetCharacterInventoryRequest request) {
         FutureTask<PlayFabResult<GetCharacterInventoryResult>> task = new FutureTask(new Callable<PlayFabResult<GetCharacterInventoryResult>>() {
             public PlayFabResult<GetCharacterInventoryResult> call() throws Exception {
-                return privateGetCharacterInventoryAsync(request);
+                return privateGetCharacterInventoryAsync(null, request);
             }
         });
         try {
@@ -1538,10 +1513,11 @@ public class PlayFabServerAPI {
 
     /** Retrieves the specified character's current inventory of virtual goods */
     @SuppressWarnings("unchecked")
-    private static PlayFabResult<GetCharacterInventoryResult> privateGetCharacterInventoryAsync(final GetCharacterInventoryRequest request) throws Exception {
-        if (PlayFabSettings.DeveloperSecretKey == null) throw new Exception ("Must have PlayFabSettings.DeveloperSecretKey set to call this method");
+    static PlayFabResult<GetCharacterInventoryResult> privateGetCharacterInventoryAsync(final PlayFabInstanceAPI instance, final GetCharacterInventoryRequest request) throws Exception {
+        final PlayFabApiContext context = PlayFabInstanceAPI.contextOf(instance);
+        if (context.getDeveloperSecretKey() == null) throw new Exception ("Must have PlayFabSettings.DeveloperSecretKey set to call this method");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Server/GetCharacterInventory"), request, "X-SecretKey", PlayFabSettings.DeveloperSecretKey);
+        FutureTask<Object> task = PlayFabHTTP.doPost(context.getURL("/Server/GetCharacterInventory"), request, "X-SecretKey", context.getDeveloperSecretKey(), GetCharacterInventoryResult.class);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -1552,9 +1528,7 @@ public class PlayFabServerAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
-
-        PlayFabJsonSuccess<GetCharacterInventoryResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<GetCharacterInventoryResult>>(){}.getType());
+        PlayFabJsonSuccess<GetCharacterInventoryResult> resultData = (PlayFabJsonSuccess<GetCharacterInventoryResult>) httpResult;
         GetCharacterInventoryResult result = resultData.data;
 
         PlayFabResult<GetCharacterInventoryResult> pfResult = new PlayFabResult<GetCharacterInventoryResult>();
@@ -1571,7 +1545,7 @@ public class PlayFabServerAPI {
     public static FutureTask<PlayFabResult<GetCharacterLeaderboardResult>> GetCharacterLeaderboardAsync(final GetCharacterLeaderboardRequest request) {
         return new FutureTask(new Callable<PlayFabResult<GetCharacterLeaderboardResult>>() {
             public PlayFabResult<GetCharacterLeaderboardResult> call() throws Exception {
-                return privateGetCharacterLeaderboardAsync(request);
+                return privateGetCharacterLeaderboardAsync(null, request);
             }
         });
     }
@@ -1585,7 +1559,7 @@ public class PlayFabServerAPI {
     public static PlayFabResult<GetCharacterLeaderboardResult> GetCharacterLeaderboard(final GetCharacterLeaderboardRequest request) {
         FutureTask<PlayFabResult<GetCharacterLeaderboardResult>> task = new FutureTask(new Callable<PlayFabResult<GetCharacterLeaderboardResult>>() {
             public PlayFabResult<GetCharacterLeaderboardResult> call() throws Exception {
-                return privateGetCharacterLeaderboardAsync(request);
+                return privateGetCharacterLeaderboardAsync(null, request);
             }
         });
         try {
@@ -1600,10 +1574,11 @@ public class PlayFabServerAPI {
 
     /** Retrieves a list of ranked characters for the given statistic, starting from the indicated point in the leaderboard */
     @SuppressWarnings("unchecked")
-    private static PlayFabResult<GetCharacterLeaderboardResult> privateGetCharacterLeaderboardAsync(final GetCharacterLeaderboardRequest request) throws Exception {
-        if (PlayFabSettings.DeveloperSecretKey == null) throw new Exception ("Must have PlayFabSettings.DeveloperSecretKey set to call this method");
+    static PlayFabResult<GetCharacterLeaderboardResult> privateGetCharacterLeaderboardAsync(final PlayFabInstanceAPI instance, final GetCharacterLeaderboardRequest request) throws Exception {
+        final PlayFabApiContext context = PlayFabInstanceAPI.contextOf(instance);
+        if (context.getDeveloperSecretKey() == null) throw new Exception ("Must have PlayFabSettings.DeveloperSecretKey set to call this method");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Server/GetCharacterLeaderboard"), request, "X-SecretKey", PlayFabSettings.DeveloperSecretKey);
+        FutureTask<Object> task = PlayFabHTTP.doPost(context.getURL("/Server/GetCharacterLeaderboard"), request, "X-SecretKey", context.getDeveloperSecretKey(), GetCharacterLeaderboardResult.class);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -1614,9 +1589,7 @@ public class PlayFabServerAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
-
-        PlayFabJsonSuccess<GetCharacterLeaderboardResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<GetCharacterLeaderboardResult>>(){}.getType());
+        PlayFabJsonSuccess<GetCharacterLeaderboardResult> resultData = (PlayFabJsonSuccess<GetCharacterLeaderboardResult>) httpResult;
         GetCharacterLeaderboardResult result = resultData.data;
 
         PlayFabResult<GetCharacterLeaderboardResult> pfResult = new PlayFabResult<GetCharacterLeaderboardResult>();
@@ -1633,7 +1606,7 @@ public class PlayFabServerAPI {
     public static FutureTask<PlayFabResult<GetCharacterDataResult>> GetCharacterReadOnlyDataAsync(final GetCharacterDataRequest request) {
         return new FutureTask(new Callable<PlayFabResult<GetCharacterDataResult>>() {
             public PlayFabResult<GetCharacterDataResult> call() throws Exception {
-                return privateGetCharacterReadOnlyDataAsync(request);
+                return privateGetCharacterReadOnlyDataAsync(null, request);
             }
         });
     }
@@ -1647,7 +1620,7 @@ public class PlayFabServerAPI {
     public static PlayFabResult<GetCharacterDataResult> GetCharacterReadOnlyData(final GetCharacterDataRequest request) {
         FutureTask<PlayFabResult<GetCharacterDataResult>> task = new FutureTask(new Callable<PlayFabResult<GetCharacterDataResult>>() {
             public PlayFabResult<GetCharacterDataResult> call() throws Exception {
-                return privateGetCharacterReadOnlyDataAsync(request);
+                return privateGetCharacterReadOnlyDataAsync(null, request);
             }
         });
         try {
@@ -1662,10 +1635,11 @@ public class PlayFabServerAPI {
 
     /** Retrieves the title-specific custom data for the user's character which can only be read by the client */
     @SuppressWarnings("unchecked")
-    private static PlayFabResult<GetCharacterDataResult> privateGetCharacterReadOnlyDataAsync(final GetCharacterDataRequest request) throws Exception {
-        if (PlayFabSettings.DeveloperSecretKey == null) throw new Exception ("Must have PlayFabSettings.DeveloperSecretKey set to call this method");
+    static PlayFabResult<GetCharacterDataResult> privateGetCharacterReadOnlyDataAsync(final PlayFabInstanceAPI instance, final GetCharacterDataRequest request) throws Exception {
+        final PlayFabApiContext context = PlayFabInstanceAPI.contextOf(instance);
+        if (context.getDeveloperSecretKey() == null) throw new Exception ("Must have PlayFabSettings.DeveloperSecretKey set to call this method");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Server/GetCharacterReadOnlyData"), request, "X-SecretKey", PlayFabSettings.DeveloperSecretKey);
+        FutureTask<Object> task = PlayFabHTTP.doPost(context.getURL("/Server/GetCharacterReadOnlyData"), request, "X-SecretKey", context.getDeveloperSecretKey(), GetCharacterDataResult.class);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -1676,9 +1650,7 @@ public class PlayFabServerAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
-
-        PlayFabJsonSuccess<GetCharacterDataResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<GetCharacterDataResult>>(){}.getType());
+        PlayFabJsonSuccess<GetCharacterDataResult> resultData = (PlayFabJsonSuccess<GetCharacterDataResult>) httpResult;
         GetCharacterDataResult result = resultData.data;
 
         PlayFabResult<GetCharacterDataResult> pfResult = new PlayFabResult<GetCharacterDataResult>();
@@ -1695,7 +1667,7 @@ public class PlayFabServerAPI {
     public static FutureTask<PlayFabResult<GetCharacterStatisticsResult>> GetCharacterStatisticsAsync(final GetCharacterStatisticsRequest request) {
         return new FutureTask(new Callable<PlayFabResult<GetCharacterStatisticsResult>>() {
             public PlayFabResult<GetCharacterStatisticsResult> call() throws Exception {
-                return privateGetCharacterStatisticsAsync(request);
+                return privateGetCharacterStatisticsAsync(null, request);
             }
         });
     }
@@ -1709,7 +1681,7 @@ public class PlayFabServerAPI {
     public static PlayFabResult<GetCharacterStatisticsResult> GetCharacterStatistics(final GetCharacterStatisticsRequest request) {
         FutureTask<PlayFabResult<GetCharacterStatisticsResult>> task = new FutureTask(new Callable<PlayFabResult<GetCharacterStatisticsResult>>() {
             public PlayFabResult<GetCharacterStatisticsResult> call() throws Exception {
-                return privateGetCharacterStatisticsAsync(request);
+                return privateGetCharacterStatisticsAsync(null, request);
             }
         });
         try {
@@ -1724,10 +1696,11 @@ public class PlayFabServerAPI {
 
     /** Retrieves the details of all title-specific statistics for the specific character */
     @SuppressWarnings("unchecked")
-    private static PlayFabResult<GetCharacterStatisticsResult> privateGetCharacterStatisticsAsync(final GetCharacterStatisticsRequest request) throws Exception {
-        if (PlayFabSettings.DeveloperSecretKey == null) throw new Exception ("Must have PlayFabSettings.DeveloperSecretKey set to call this method");
+    static PlayFabResult<GetCharacterStatisticsResult> privateGetCharacterStatisticsAsync(final PlayFabInstanceAPI instance, final GetCharacterStatisticsRequest request) throws Exception {
+        final PlayFabApiContext context = PlayFabInstanceAPI.contextOf(instance);
+        if (context.getDeveloperSecretKey() == null) throw new Exception ("Must have PlayFabSettings.DeveloperSecretKey set to call this method");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Server/GetCharacterStatistics"), request, "X-SecretKey", PlayFabSettings.DeveloperSecretKey);
+        FutureTask<Object> task = PlayFabHTTP.doPost(context.getURL("/Server/GetCharacterStatistics"), request, "X-SecretKey", context.getDeveloperSecretKey(), GetCharacterStatisticsResult.class);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -1738,9 +1711,7 @@ public class PlayFabServerAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
-
-        PlayFabJsonSuccess<GetCharacterStatisticsResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<GetCharacterStatisticsResult>>(){}.getType());
+        PlayFabJsonSuccess<GetCharacterStatisticsResult> resultData = (PlayFabJsonSuccess<GetCharacterStatisticsResult>) httpResult;
         GetCharacterStatisticsResult result = resultData.data;
 
         PlayFabResult<GetCharacterStatisticsResult> pfResult = new PlayFabResult<GetCharacterStatisticsResult>();
@@ -1762,7 +1733,7 @@ public class PlayFabServerAPI {
     public static FutureTask<PlayFabResult<GetContentDownloadUrlResult>> GetContentDownloadUrlAsync(final GetContentDownloadUrlRequest request) {
         return new FutureTask(new Callable<PlayFabResult<GetContentDownloadUrlResult>>() {
             public PlayFabResult<GetContentDownloadUrlResult> call() throws Exception {
-                return privateGetContentDownloadUrlAsync(request);
+                return privateGetContentDownloadUrlAsync(null, request);
             }
         });
     }
@@ -1781,7 +1752,7 @@ public class PlayFabServerAPI {
     public static PlayFabResult<GetContentDownloadUrlResult> GetContentDownloadUrl(final GetContentDownloadUrlRequest request) {
         FutureTask<PlayFabResult<GetContentDownloadUrlResult>> task = new FutureTask(new Callable<PlayFabResult<GetContentDownloadUrlResult>>() {
             public PlayFabResult<GetContentDownloadUrlResult> call() throws Exception {
-                return privateGetContentDownloadUrlAsync(request);
+                return privateGetContentDownloadUrlAsync(null, request);
             }
         });
         try {
@@ -1803,10 +1774,11 @@ public class PlayFabServerAPI {
      * please be aware that the Content service is specifically PlayFab's CDN offering, for which standard CDN rates apply.
      */
     @SuppressWarnings("unchecked")
-    private static PlayFabResult<GetContentDownloadUrlResult> privateGetContentDownloadUrlAsync(final GetContentDownloadUrlRequest request) throws Exception {
-        if (PlayFabSettings.DeveloperSecretKey == null) throw new Exception ("Must have PlayFabSettings.DeveloperSecretKey set to call this method");
+    static PlayFabResult<GetContentDownloadUrlResult> privateGetContentDownloadUrlAsync(final PlayFabInstanceAPI instance, final GetContentDownloadUrlRequest request) throws Exception {
+        final PlayFabApiContext context = PlayFabInstanceAPI.contextOf(instance);
+        if (context.getDeveloperSecretKey() == null) throw new Exception ("Must have PlayFabSettings.DeveloperSecretKey set to call this method");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Server/GetContentDownloadUrl"), request, "X-SecretKey", PlayFabSettings.DeveloperSecretKey);
+        FutureTask<Object> task = PlayFabHTTP.doPost(context.getURL("/Server/GetContentDownloadUrl"), request, "X-SecretKey", context.getDeveloperSecretKey(), GetContentDownloadUrlResult.class);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -1817,9 +1789,7 @@ public class PlayFabServerAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
-
-        PlayFabJsonSuccess<GetContentDownloadUrlResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<GetContentDownloadUrlResult>>(){}.getType());
+        PlayFabJsonSuccess<GetContentDownloadUrlResult> resultData = (PlayFabJsonSuccess<GetContentDownloadUrlResult>) httpResult;
         GetContentDownloadUrlResult result = resultData.data;
 
         PlayFabResult<GetContentDownloadUrlResult> pfResult = new PlayFabResult<GetContentDownloadUrlResult>();
@@ -1837,7 +1807,7 @@ public class PlayFabServerAPI {
     public static FutureTask<PlayFabResult<GetLeaderboardResult>> GetFriendLeaderboardAsync(final GetFriendLeaderboardRequest request) {
         return new FutureTask(new Callable<PlayFabResult<GetLeaderboardResult>>() {
             public PlayFabResult<GetLeaderboardResult> call() throws Exception {
-                return privateGetFriendLeaderboardAsync(request);
+                return privateGetFriendLeaderboardAsync(null, request);
             }
         });
     }
@@ -1852,7 +1822,7 @@ public class PlayFabServerAPI {
     public static PlayFabResult<GetLeaderboardResult> GetFriendLeaderboard(final GetFriendLeaderboardRequest request) {
         FutureTask<PlayFabResult<GetLeaderboardResult>> task = new FutureTask(new Callable<PlayFabResult<GetLeaderboardResult>>() {
             public PlayFabResult<GetLeaderboardResult> call() throws Exception {
-                return privateGetFriendLeaderboardAsync(request);
+                return privateGetFriendLeaderboardAsync(null, request);
             }
         });
         try {
@@ -1870,10 +1840,11 @@ public class PlayFabServerAPI {
      * leaderboard
      */
     @SuppressWarnings("unchecked")
-    private static PlayFabResult<GetLeaderboardResult> privateGetFriendLeaderboardAsync(final GetFriendLeaderboardRequest request) throws Exception {
-        if (PlayFabSettings.DeveloperSecretKey == null) throw new Exception ("Must have PlayFabSettings.DeveloperSecretKey set to call this method");
+    static PlayFabResult<GetLeaderboardResult> privateGetFriendLeaderboardAsync(final PlayFabInstanceAPI instance, final GetFriendLeaderboardRequest request) throws Exception {
+        final PlayFabApiContext context = PlayFabInstanceAPI.contextOf(instance);
+        if (context.getDeveloperSecretKey() == null) throw new Exception ("Must have PlayFabSettings.DeveloperSecretKey set to call this method");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Server/GetFriendLeaderboard"), request, "X-SecretKey", PlayFabSettings.DeveloperSecretKey);
+        FutureTask<Object> task = PlayFabHTTP.doPost(context.getURL("/Server/GetFriendLeaderboard"), request, "X-SecretKey", context.getDeveloperSecretKey(), GetLeaderboardResult.class);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -1884,9 +1855,7 @@ public class PlayFabServerAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
-
-        PlayFabJsonSuccess<GetLeaderboardResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<GetLeaderboardResult>>(){}.getType());
+        PlayFabJsonSuccess<GetLeaderboardResult> resultData = (PlayFabJsonSuccess<GetLeaderboardResult>) httpResult;
         GetLeaderboardResult result = resultData.data;
 
         PlayFabResult<GetLeaderboardResult> pfResult = new PlayFabResult<GetLeaderboardResult>();
@@ -1904,7 +1873,7 @@ public class PlayFabServerAPI {
     public static FutureTask<PlayFabResult<GetFriendsListResult>> GetFriendsListAsync(final GetFriendsListRequest request) {
         return new FutureTask(new Callable<PlayFabResult<GetFriendsListResult>>() {
             public PlayFabResult<GetFriendsListResult> call() throws Exception {
-                return privateGetFriendsListAsync(request);
+                return privateGetFriendsListAsync(null, request);
             }
         });
     }
@@ -1919,7 +1888,7 @@ public class PlayFabServerAPI {
     public static PlayFabResult<GetFriendsListResult> GetFriendsList(final GetFriendsListRequest request) {
         FutureTask<PlayFabResult<GetFriendsListResult>> task = new FutureTask(new Callable<PlayFabResult<GetFriendsListResult>>() {
             public PlayFabResult<GetFriendsListResult> call() throws Exception {
-                return privateGetFriendsListAsync(request);
+                return privateGetFriendsListAsync(null, request);
             }
         });
         try {
@@ -1937,10 +1906,11 @@ public class PlayFabServerAPI {
      * linked accounts (Facebook, Steam) are also included. You may optionally exclude some linked services' friends.
      */
     @SuppressWarnings("unchecked")
-    private static PlayFabResult<GetFriendsListResult> privateGetFriendsListAsync(final GetFriendsListRequest request) throws Exception {
-        if (PlayFabSettings.DeveloperSecretKey == null) throw new Exception ("Must have PlayFabSettings.DeveloperSecretKey set to call this method");
+    static PlayFabResult<GetFriendsListResult> privateGetFriendsListAsync(final PlayFabInstanceAPI instance, final GetFriendsListRequest request) throws Exception {
+        final PlayFabApiContext context = PlayFabInstanceAPI.contextOf(instance);
+        if (context.getDeveloperSecretKey() == null) throw new Exception ("Must have PlayFabSettings.DeveloperSecretKey set to call this method");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Server/GetFriendsList"), request, "X-SecretKey", PlayFabSettings.DeveloperSecretKey);
+        FutureTask<Object> task = PlayFabHTTP.doPost(context.getURL("/Server/GetFriendsList"), request, "X-SecretKey", context.getDeveloperSecretKey(), GetFriendsListResult.class);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -1951,9 +1921,7 @@ public class PlayFabServerAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
-
-        PlayFabJsonSuccess<GetFriendsListResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<GetFriendsListResult>>(){}.getType());
+        PlayFabJsonSuccess<GetFriendsListResult> resultData = (PlayFabJsonSuccess<GetFriendsListResult>) httpResult;
         GetFriendsListResult result = resultData.data;
 
         PlayFabResult<GetFriendsListResult> pfResult = new PlayFabResult<GetFriendsListResult>();
@@ -1970,7 +1938,7 @@ public class PlayFabServerAPI {
     public static FutureTask<PlayFabResult<GetLeaderboardResult>> GetLeaderboardAsync(final GetLeaderboardRequest request) {
         return new FutureTask(new Callable<PlayFabResult<GetLeaderboardResult>>() {
             public PlayFabResult<GetLeaderboardResult> call() throws Exception {
-                return privateGetLeaderboardAsync(request);
+                return privateGetLeaderboardAsync(null, request);
             }
         });
     }
@@ -1984,7 +1952,7 @@ public class PlayFabServerAPI {
     public static PlayFabResult<GetLeaderboardResult> GetLeaderboard(final GetLeaderboardRequest request) {
         FutureTask<PlayFabResult<GetLeaderboardResult>> task = new FutureTask(new Callable<PlayFabResult<GetLeaderboardResult>>() {
             public PlayFabResult<GetLeaderboardResult> call() throws Exception {
-                return privateGetLeaderboardAsync(request);
+                return privateGetLeaderboardAsync(null, request);
             }
         });
         try {
@@ -1999,10 +1967,11 @@ public class PlayFabServerAPI {
 
     /** Retrieves a list of ranked users for the given statistic, starting from the indicated point in the leaderboard */
     @SuppressWarnings("unchecked")
-    private static PlayFabResult<GetLeaderboardResult> privateGetLeaderboardAsync(final GetLeaderboardRequest request) throws Exception {
-        if (PlayFabSettings.DeveloperSecretKey == null) throw new Exception ("Must have PlayFabSettings.DeveloperSecretKey set to call this method");
+    static PlayFabResult<GetLeaderboardResult> privateGetLeaderboardAsync(final PlayFabInstanceAPI instance, final GetLeaderboardRequest request) throws Exception {
+        final PlayFabApiContext context = PlayFabInstanceAPI.contextOf(instance);
+        if (context.getDeveloperSecretKey() == null) throw new Exception ("Must have PlayFabSettings.DeveloperSecretKey set to call this method");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Server/GetLeaderboard"), request, "X-SecretKey", PlayFabSettings.DeveloperSecretKey);
+        FutureTask<Object> task = PlayFabHTTP.doPost(context.getURL("/Server/GetLeaderboard"), request, "X-SecretKey", context.getDeveloperSecretKey(), GetLeaderboardResult.class);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -2013,9 +1982,7 @@ public class PlayFabServerAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
-
-        PlayFabJsonSuccess<GetLeaderboardResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<GetLeaderboardResult>>(){}.getType());
+        PlayFabJsonSuccess<GetLeaderboardResult> resultData = (PlayFabJsonSuccess<GetLeaderboardResult>) httpResult;
         GetLeaderboardResult result = resultData.data;
 
         PlayFabResult<GetLeaderboardResult> pfResult = new PlayFabResult<GetLeaderboardResult>();
@@ -2032,7 +1999,7 @@ public class PlayFabServerAPI {
     public static FutureTask<PlayFabResult<GetLeaderboardAroundCharacterResult>> GetLeaderboardAroundCharacterAsync(final GetLeaderboardAroundCharacterRequest request) {
         return new FutureTask(new Callable<PlayFabResult<GetLeaderboardAroundCharacterResult>>() {
             public PlayFabResult<GetLeaderboardAroundCharacterResult> call() throws Exception {
-                return privateGetLeaderboardAroundCharacterAsync(request);
+                return privateGetLeaderboardAroundCharacterAsync(null, request);
             }
         });
     }
@@ -2046,7 +2013,7 @@ public class PlayFabServerAPI {
     public static PlayFabResult<GetLeaderboardAroundCharacterResult> GetLeaderboardAroundCharacter(final GetLeaderboardAroundCharacterRequest request) {
         FutureTask<PlayFabResult<GetLeaderboardAroundCharacterResult>> task = new FutureTask(new Callable<PlayFabResult<GetLeaderboardAroundCharacterResult>>() {
             public PlayFabResult<GetLeaderboardAroundCharacterResult> call() throws Exception {
-                return privateGetLeaderboardAroundCharacterAsync(request);
+                return privateGetLeaderboardAroundCharacterAsync(null, request);
             }
         });
         try {
@@ -2061,10 +2028,11 @@ public class PlayFabServerAPI {
 
     /** Retrieves a list of ranked characters for the given statistic, centered on the requested user */
     @SuppressWarnings("unchecked")
-    private static PlayFabResult<GetLeaderboardAroundCharacterResult> privateGetLeaderboardAroundCharacterAsync(final GetLeaderboardAroundCharacterRequest request) throws Exception {
-        if (PlayFabSettings.DeveloperSecretKey == null) throw new Exception ("Must have PlayFabSettings.DeveloperSecretKey set to call this method");
+    static PlayFabResult<GetLeaderboardAroundCharacterResult> privateGetLeaderboardAroundCharacterAsync(final PlayFabInstanceAPI instance, final GetLeaderboardAroundCharacterRequest request) throws Exception {
+        final PlayFabApiContext context = PlayFabInstanceAPI.contextOf(instance);
+        if (context.getDeveloperSecretKey() == null) throw new Exception ("Must have PlayFabSettings.DeveloperSecretKey set to call this method");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Server/GetLeaderboardAroundCharacter"), request, "X-SecretKey", PlayFabSettings.DeveloperSecretKey);
+        FutureTask<Object> task = PlayFabHTTP.doPost(context.getURL("/Server/GetLeaderboardAroundCharacter"), request, "X-SecretKey", context.getDeveloperSecretKey(), GetLeaderboardAroundCharacterResult.class);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -2075,9 +2043,7 @@ public class PlayFabServerAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
-
-        PlayFabJsonSuccess<GetLeaderboardAroundCharacterResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<GetLeaderboardAroundCharacterResult>>(){}.getType());
+        PlayFabJsonSuccess<GetLeaderboardAroundCharacterResult> resultData = (PlayFabJsonSuccess<GetLeaderboardAroundCharacterResult>) httpResult;
         GetLeaderboardAroundCharacterResult result = resultData.data;
 
         PlayFabResult<GetLeaderboardAroundCharacterResult> pfResult = new PlayFabResult<GetLeaderboardAroundCharacterResult>();
@@ -2094,7 +2060,7 @@ public class PlayFabServerAPI {
     public static FutureTask<PlayFabResult<GetLeaderboardAroundUserResult>> GetLeaderboardAroundUserAsync(final GetLeaderboardAroundUserRequest request) {
         return new FutureTask(new Callable<PlayFabResult<GetLeaderboardAroundUserResult>>() {
             public PlayFabResult<GetLeaderboardAroundUserResult> call() throws Exception {
-                return privateGetLeaderboardAroundUserAsync(request);
+                return privateGetLeaderboardAroundUserAsync(null, request);
             }
         });
     }
@@ -2108,7 +2074,7 @@ public class PlayFabServerAPI {
     public static PlayFabResult<GetLeaderboardAroundUserResult> GetLeaderboardAroundUser(final GetLeaderboardAroundUserRequest request) {
         FutureTask<PlayFabResult<GetLeaderboardAroundUserResult>> task = new FutureTask(new Callable<PlayFabResult<GetLeaderboardAroundUserResult>>() {
             public PlayFabResult<GetLeaderboardAroundUserResult> call() throws Exception {
-                return privateGetLeaderboardAroundUserAsync(request);
+                return privateGetLeaderboardAroundUserAsync(null, request);
             }
         });
         try {
@@ -2123,10 +2089,11 @@ public class PlayFabServerAPI {
 
     /** Retrieves a list of ranked users for the given statistic, centered on the currently signed-in user */
     @SuppressWarnings("unchecked")
-    private static PlayFabResult<GetLeaderboardAroundUserResult> privateGetLeaderboardAroundUserAsync(final GetLeaderboardAroundUserRequest request) throws Exception {
-        if (PlayFabSettings.DeveloperSecretKey == null) throw new Exception ("Must have PlayFabSettings.DeveloperSecretKey set to call this method");
+    static PlayFabResult<GetLeaderboardAroundUserResult> privateGetLeaderboardAroundUserAsync(final PlayFabInstanceAPI instance, final GetLeaderboardAroundUserRequest request) throws Exception {
+        final PlayFabApiContext context = PlayFabInstanceAPI.contextOf(instance);
+        if (context.getDeveloperSecretKey() == null) throw new Exception ("Must have PlayFabSettings.DeveloperSecretKey set to call this method");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Server/GetLeaderboardAroundUser"), request, "X-SecretKey", PlayFabSettings.DeveloperSecretKey);
+        FutureTask<Object> task = PlayFabHTTP.doPost(context.getURL("/Server/GetLeaderboardAroundUser"), request, "X-SecretKey", context.getDeveloperSecretKey(), GetLeaderboardAroundUserResult.class);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -2137,9 +2104,7 @@ public class PlayFabServerAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
-
-        PlayFabJsonSuccess<GetLeaderboardAroundUserResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<GetLeaderboardAroundUserResult>>(){}.getType());
+        PlayFabJsonSuccess<GetLeaderboardAroundUserResult> resultData = (PlayFabJsonSuccess<GetLeaderboardAroundUserResult>) httpResult;
         GetLeaderboardAroundUserResult result = resultData.data;
 
         PlayFabResult<GetLeaderboardAroundUserResult> pfResult = new PlayFabResult<GetLeaderboardAroundUserResult>();
@@ -2156,7 +2121,7 @@ public class PlayFabServerAPI {
     public static FutureTask<PlayFabResult<GetLeaderboardForUsersCharactersResult>> GetLeaderboardForUserCharactersAsync(final GetLeaderboardForUsersCharactersRequest request) {
         return new FutureTask(new Callable<PlayFabResult<GetLeaderboardForUsersCharactersResult>>() {
             public PlayFabResult<GetLeaderboardForUsersCharactersResult> call() throws Exception {
-                return privateGetLeaderboardForUserCharactersAsync(request);
+                return privateGetLeaderboardForUserCharactersAsync(null, request);
             }
         });
     }
@@ -2170,7 +2135,7 @@ public class PlayFabServerAPI {
     public static PlayFabResult<GetLeaderboardForUsersCharactersResult> GetLeaderboardForUserCharacters(final GetLeaderboardForUsersCharactersRequest request) {
         FutureTask<PlayFabResult<GetLeaderboardForUsersCharactersResult>> task = new FutureTask(new Callable<PlayFabResult<GetLeaderboardForUsersCharactersResult>>() {
             public PlayFabResult<GetLeaderboardForUsersCharactersResult> call() throws Exception {
-                return privateGetLeaderboardForUserCharactersAsync(request);
+                return privateGetLeaderboardForUserCharactersAsync(null, request);
             }
         });
         try {
@@ -2185,10 +2150,11 @@ public class PlayFabServerAPI {
 
     /** Retrieves a list of all of the user's characters for the given statistic. */
     @SuppressWarnings("unchecked")
-    private static PlayFabResult<GetLeaderboardForUsersCharactersResult> privateGetLeaderboardForUserCharactersAsync(final GetLeaderboardForUsersCharactersRequest request) throws Exception {
-        if (PlayFabSettings.DeveloperSecretKey == null) throw new Exception ("Must have PlayFabSettings.DeveloperSecretKey set to call this method");
+    static PlayFabResult<GetLeaderboardForUsersCharactersResult> privateGetLeaderboardForUserCharactersAsync(final PlayFabInstanceAPI instance, final GetLeaderboardForUsersCharactersRequest request) throws Exception {
+        final PlayFabApiContext context = PlayFabInstanceAPI.contextOf(instance);
+        if (context.getDeveloperSecretKey() == null) throw new Exception ("Must have PlayFabSettings.DeveloperSecretKey set to call this method");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Server/GetLeaderboardForUserCharacters"), request, "X-SecretKey", PlayFabSettings.DeveloperSecretKey);
+        FutureTask<Object> task = PlayFabHTTP.doPost(context.getURL("/Server/GetLeaderboardForUserCharacters"), request, "X-SecretKey", context.getDeveloperSecretKey(), GetLeaderboardForUsersCharactersResult.class);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -2199,9 +2165,7 @@ public class PlayFabServerAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
-
-        PlayFabJsonSuccess<GetLeaderboardForUsersCharactersResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<GetLeaderboardForUsersCharactersResult>>(){}.getType());
+        PlayFabJsonSuccess<GetLeaderboardForUsersCharactersResult> resultData = (PlayFabJsonSuccess<GetLeaderboardForUsersCharactersResult>) httpResult;
         GetLeaderboardForUsersCharactersResult result = resultData.data;
 
         PlayFabResult<GetLeaderboardForUsersCharactersResult> pfResult = new PlayFabResult<GetLeaderboardForUsersCharactersResult>();
@@ -2219,7 +2183,7 @@ public class PlayFabServerAPI {
     public static FutureTask<PlayFabResult<GetPlayerCombinedInfoResult>> GetPlayerCombinedInfoAsync(final GetPlayerCombinedInfoRequest request) {
         return new FutureTask(new Callable<PlayFabResult<GetPlayerCombinedInfoResult>>() {
             public PlayFabResult<GetPlayerCombinedInfoResult> call() throws Exception {
-                return privateGetPlayerCombinedInfoAsync(request);
+                return privateGetPlayerCombinedInfoAsync(null, request);
             }
         });
     }
@@ -2234,7 +2198,7 @@ public class PlayFabServerAPI {
     public static PlayFabResult<GetPlayerCombinedInfoResult> GetPlayerCombinedInfo(final GetPlayerCombinedInfoRequest request) {
         FutureTask<PlayFabResult<GetPlayerCombinedInfoResult>> task = new FutureTask(new Callable<PlayFabResult<GetPlayerCombinedInfoResult>>() {
             public PlayFabResult<GetPlayerCombinedInfoResult> call() throws Exception {
-                return privateGetPlayerCombinedInfoAsync(request);
+                return privateGetPlayerCombinedInfoAsync(null, request);
             }
         });
         try {
@@ -2252,10 +2216,11 @@ public class PlayFabServerAPI {
      * returned. All parameters default to false.
      */
     @SuppressWarnings("unchecked")
-    private static PlayFabResult<GetPlayerCombinedInfoResult> privateGetPlayerCombinedInfoAsync(final GetPlayerCombinedInfoRequest request) throws Exception {
-        if (PlayFabSettings.DeveloperSecretKey == null) throw new Exception ("Must have PlayFabSettings.DeveloperSecretKey set to call this method");
+    static PlayFabResult<GetPlayerCombinedInfoResult> privateGetPlayerCombinedInfoAsync(final PlayFabInstanceAPI instance, final GetPlayerCombinedInfoRequest request) throws Exception {
+        final PlayFabApiContext context = PlayFabInstanceAPI.contextOf(instance);
+        if (context.getDeveloperSecretKey() == null) throw new Exception ("Must have PlayFabSettings.DeveloperSecretKey set to call this method");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Server/GetPlayerCombinedInfo"), request, "X-SecretKey", PlayFabSettings.DeveloperSecretKey);
+        FutureTask<Object> task = PlayFabHTTP.doPost(context.getURL("/Server/GetPlayerCombinedInfo"), request, "X-SecretKey", context.getDeveloperSecretKey(), GetPlayerCombinedInfoResult.class);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -2266,9 +2231,7 @@ public class PlayFabServerAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
-
-        PlayFabJsonSuccess<GetPlayerCombinedInfoResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<GetPlayerCombinedInfoResult>>(){}.getType());
+        PlayFabJsonSuccess<GetPlayerCombinedInfoResult> resultData = (PlayFabJsonSuccess<GetPlayerCombinedInfoResult>) httpResult;
         GetPlayerCombinedInfoResult result = resultData.data;
 
         PlayFabResult<GetPlayerCombinedInfoResult> pfResult = new PlayFabResult<GetPlayerCombinedInfoResult>();
@@ -2285,7 +2248,7 @@ public class PlayFabServerAPI {
     public static FutureTask<PlayFabResult<GetPlayerProfileResult>> GetPlayerProfileAsync(final GetPlayerProfileRequest request) {
         return new FutureTask(new Callable<PlayFabResult<GetPlayerProfileResult>>() {
             public PlayFabResult<GetPlayerProfileResult> call() throws Exception {
-                return privateGetPlayerProfileAsync(request);
+                return privateGetPlayerProfileAsync(null, request);
             }
         });
     }
@@ -2299,7 +2262,7 @@ public class PlayFabServerAPI {
     public static PlayFabResult<GetPlayerProfileResult> GetPlayerProfile(final GetPlayerProfileRequest request) {
         FutureTask<PlayFabResult<GetPlayerProfileResult>> task = new FutureTask(new Callable<PlayFabResult<GetPlayerProfileResult>>() {
             public PlayFabResult<GetPlayerProfileResult> call() throws Exception {
-                return privateGetPlayerProfileAsync(request);
+                return privateGetPlayerProfileAsync(null, request);
             }
         });
         try {
@@ -2314,10 +2277,11 @@ public class PlayFabServerAPI {
 
     /** Retrieves the player's profile */
     @SuppressWarnings("unchecked")
-    private static PlayFabResult<GetPlayerProfileResult> privateGetPlayerProfileAsync(final GetPlayerProfileRequest request) throws Exception {
-        if (PlayFabSettings.DeveloperSecretKey == null) throw new Exception ("Must have PlayFabSettings.DeveloperSecretKey set to call this method");
+    static PlayFabResult<GetPlayerProfileResult> privateGetPlayerProfileAsync(final PlayFabInstanceAPI instance, final GetPlayerProfileRequest request) throws Exception {
+        final PlayFabApiContext context = PlayFabInstanceAPI.contextOf(instance);
+        if (context.getDeveloperSecretKey() == null) throw new Exception ("Must have PlayFabSettings.DeveloperSecretKey set to call this method");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Server/GetPlayerProfile"), request, "X-SecretKey", PlayFabSettings.DeveloperSecretKey);
+        FutureTask<Object> task = PlayFabHTTP.doPost(context.getURL("/Server/GetPlayerProfile"), request, "X-SecretKey", context.getDeveloperSecretKey(), GetPlayerProfileResult.class);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -2328,9 +2292,7 @@ public class PlayFabServerAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
-
-        PlayFabJsonSuccess<GetPlayerProfileResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<GetPlayerProfileResult>>(){}.getType());
+        PlayFabJsonSuccess<GetPlayerProfileResult> resultData = (PlayFabJsonSuccess<GetPlayerProfileResult>) httpResult;
         GetPlayerProfileResult result = resultData.data;
 
         PlayFabResult<GetPlayerProfileResult> pfResult = new PlayFabResult<GetPlayerProfileResult>();
@@ -2347,7 +2309,7 @@ public class PlayFabServerAPI {
     public static FutureTask<PlayFabResult<GetPlayerSegmentsResult>> GetPlayerSegmentsAsync(final GetPlayersSegmentsRequest request) {
         return new FutureTask(new Callable<PlayFabResult<GetPlayerSegmentsResult>>() {
             public PlayFabResult<GetPlayerSegmentsResult> call() throws Exception {
-                return privateGetPlayerSegmentsAsync(request);
+                return privateGetPlayerSegmentsAsync(null, request);
             }
         });
     }
@@ -2361,7 +2323,7 @@ public class PlayFabServerAPI {
     public static PlayFabResult<GetPlayerSegmentsResult> GetPlayerSegments(final GetPlayersSegmentsRequest request) {
         FutureTask<PlayFabResult<GetPlayerSegmentsResult>> task = new FutureTask(new Callable<PlayFabResult<GetPlayerSegmentsResult>>() {
             public PlayFabResult<GetPlayerSegmentsResult> call() throws Exception {
-                return privateGetPlayerSegmentsAsync(request);
+                return privateGetPlayerSegmentsAsync(null, request);
             }
         });
         try {
@@ -2376,10 +2338,11 @@ public class PlayFabServerAPI {
 
     /** List all segments that a player currently belongs to at this moment in time. */
     @SuppressWarnings("unchecked")
-    private static PlayFabResult<GetPlayerSegmentsResult> privateGetPlayerSegmentsAsync(final GetPlayersSegmentsRequest request) throws Exception {
-        if (PlayFabSettings.DeveloperSecretKey == null) throw new Exception ("Must have PlayFabSettings.DeveloperSecretKey set to call this method");
+    static PlayFabResult<GetPlayerSegmentsResult> privateGetPlayerSegmentsAsync(final PlayFabInstanceAPI instance, final GetPlayersSegmentsRequest request) throws Exception {
+        final PlayFabApiContext context = PlayFabInstanceAPI.contextOf(instance);
+        if (context.getDeveloperSecretKey() == null) throw new Exception ("Must have PlayFabSettings.DeveloperSecretKey set to call this method");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Server/GetPlayerSegments"), request, "X-SecretKey", PlayFabSettings.DeveloperSecretKey);
+        FutureTask<Object> task = PlayFabHTTP.doPost(context.getURL("/Server/GetPlayerSegments"), request, "X-SecretKey", context.getDeveloperSecretKey(), GetPlayerSegmentsResult.class);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -2390,9 +2353,7 @@ public class PlayFabServerAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
-
-        PlayFabJsonSuccess<GetPlayerSegmentsResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<GetPlayerSegmentsResult>>(){}.getType());
+        PlayFabJsonSuccess<GetPlayerSegmentsResult> resultData = (PlayFabJsonSuccess<GetPlayerSegmentsResult>) httpResult;
         GetPlayerSegmentsResult result = resultData.data;
 
         PlayFabResult<GetPlayerSegmentsResult> pfResult = new PlayFabResult<GetPlayerSegmentsResult>();
@@ -2413,7 +2374,7 @@ public class PlayFabServerAPI {
     public static FutureTask<PlayFabResult<GetPlayersInSegmentResult>> GetPlayersInSegmentAsync(final GetPlayersInSegmentRequest request) {
         return new FutureTask(new Callable<PlayFabResult<GetPlayersInSegmentResult>>() {
             public PlayFabResult<GetPlayersInSegmentResult> call() throws Exception {
-                return privateGetPlayersInSegmentAsync(request);
+                return privateGetPlayersInSegmentAsync(null, request);
             }
         });
     }
@@ -2431,7 +2392,7 @@ public class PlayFabServerAPI {
     public static PlayFabResult<GetPlayersInSegmentResult> GetPlayersInSegment(final GetPlayersInSegmentRequest request) {
         FutureTask<PlayFabResult<GetPlayersInSegmentResult>> task = new FutureTask(new Callable<PlayFabResult<GetPlayersInSegmentResult>>() {
             public PlayFabResult<GetPlayersInSegmentResult> call() throws Exception {
-                return privateGetPlayersInSegmentAsync(request);
+                return privateGetPlayersInSegmentAsync(null, request);
             }
         });
         try {
@@ -2452,10 +2413,11 @@ public class PlayFabServerAPI {
      * called 30 times in one minute. You will be returned an error if you exceed this threshold.
      */
     @SuppressWarnings("unchecked")
-    private static PlayFabResult<GetPlayersInSegmentResult> privateGetPlayersInSegmentAsync(final GetPlayersInSegmentRequest request) throws Exception {
-        if (PlayFabSettings.DeveloperSecretKey == null) throw new Exception ("Must have PlayFabSettings.DeveloperSecretKey set to call this method");
+    static PlayFabResult<GetPlayersInSegmentResult> privateGetPlayersInSegmentAsync(final PlayFabInstanceAPI instance, final GetPlayersInSegmentRequest request) throws Exception {
+        final PlayFabApiContext context = PlayFabInstanceAPI.contextOf(instance);
+        if (context.getDeveloperSecretKey() == null) throw new Exception ("Must have PlayFabSettings.DeveloperSecretKey set to call this method");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Server/GetPlayersInSegment"), request, "X-SecretKey", PlayFabSettings.DeveloperSecretKey);
+        FutureTask<Object> task = PlayFabHTTP.doPost(context.getURL("/Server/GetPlayersInSegment"), request, "X-SecretKey", context.getDeveloperSecretKey(), GetPlayersInSegmentResult.class);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -2466,9 +2428,7 @@ public class PlayFabServerAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
-
-        PlayFabJsonSuccess<GetPlayersInSegmentResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<GetPlayersInSegmentResult>>(){}.getType());
+        PlayFabJsonSuccess<GetPlayersInSegmentResult> resultData = (PlayFabJsonSuccess<GetPlayersInSegmentResult>) httpResult;
         GetPlayersInSegmentResult result = resultData.data;
 
         PlayFabResult<GetPlayersInSegmentResult> pfResult = new PlayFabResult<GetPlayersInSegmentResult>();
@@ -2485,7 +2445,7 @@ public class PlayFabServerAPI {
     public static FutureTask<PlayFabResult<GetPlayerStatisticsResult>> GetPlayerStatisticsAsync(final GetPlayerStatisticsRequest request) {
         return new FutureTask(new Callable<PlayFabResult<GetPlayerStatisticsResult>>() {
             public PlayFabResult<GetPlayerStatisticsResult> call() throws Exception {
-                return privateGetPlayerStatisticsAsync(request);
+                return privateGetPlayerStatisticsAsync(null, request);
             }
         });
     }
@@ -2499,7 +2459,7 @@ public class PlayFabServerAPI {
     public static PlayFabResult<GetPlayerStatisticsResult> GetPlayerStatistics(final GetPlayerStatisticsRequest request) {
         FutureTask<PlayFabResult<GetPlayerStatisticsResult>> task = new FutureTask(new Callable<PlayFabResult<GetPlayerStatisticsResult>>() {
             public PlayFabResult<GetPlayerStatisticsResult> call() throws Exception {
-                return privateGetPlayerStatisticsAsync(request);
+                return privateGetPlayerStatisticsAsync(null, request);
             }
         });
         try {
@@ -2514,10 +2474,11 @@ public class PlayFabServerAPI {
 
     /** Retrieves the current version and values for the indicated statistics, for the local player. */
     @SuppressWarnings("unchecked")
-    private static PlayFabResult<GetPlayerStatisticsResult> privateGetPlayerStatisticsAsync(final GetPlayerStatisticsRequest request) throws Exception {
-        if (PlayFabSettings.DeveloperSecretKey == null) throw new Exception ("Must have PlayFabSettings.DeveloperSecretKey set to call this method");
+    static PlayFabResult<GetPlayerStatisticsResult> privateGetPlayerStatisticsAsync(final PlayFabInstanceAPI instance, final GetPlayerStatisticsRequest request) throws Exception {
+        final PlayFabApiContext context = PlayFabInstanceAPI.contextOf(instance);
+        if (context.getDeveloperSecretKey() == null) throw new Exception ("Must have PlayFabSettings.DeveloperSecretKey set to call this method");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Server/GetPlayerStatistics"), request, "X-SecretKey", PlayFabSettings.DeveloperSecretKey);
+        FutureTask<Object> task = PlayFabHTTP.doPost(context.getURL("/Server/GetPlayerStatistics"), request, "X-SecretKey", context.getDeveloperSecretKey(), GetPlayerStatisticsResult.class);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -2528,9 +2489,7 @@ public class PlayFabServerAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
-
-        PlayFabJsonSuccess<GetPlayerStatisticsResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<GetPlayerStatisticsResult>>(){}.getType());
+        PlayFabJsonSuccess<GetPlayerStatisticsResult> resultData = (PlayFabJsonSuccess<GetPlayerStatisticsResult>) httpResult;
         GetPlayerStatisticsResult result = resultData.data;
 
         PlayFabResult<GetPlayerStatisticsResult> pfResult = new PlayFabResult<GetPlayerStatisticsResult>();
@@ -2547,7 +2506,7 @@ public class PlayFabServerAPI {
     public static FutureTask<PlayFabResult<GetPlayerStatisticVersionsResult>> GetPlayerStatisticVersionsAsync(final GetPlayerStatisticVersionsRequest request) {
         return new FutureTask(new Callable<PlayFabResult<GetPlayerStatisticVersionsResult>>() {
             public PlayFabResult<GetPlayerStatisticVersionsResult> call() throws Exception {
-                return privateGetPlayerStatisticVersionsAsync(request);
+                return privateGetPlayerStatisticVersionsAsync(null, request);
             }
         });
     }
@@ -2561,7 +2520,7 @@ public class PlayFabServerAPI {
     public static PlayFabResult<GetPlayerStatisticVersionsResult> GetPlayerStatisticVersions(final GetPlayerStatisticVersionsRequest request) {
         FutureTask<PlayFabResult<GetPlayerStatisticVersionsResult>> task = new FutureTask(new Callable<PlayFabResult<GetPlayerStatisticVersionsResult>>() {
             public PlayFabResult<GetPlayerStatisticVersionsResult> call() throws Exception {
-                return privateGetPlayerStatisticVersionsAsync(request);
+                return privateGetPlayerStatisticVersionsAsync(null, request);
             }
         });
         try {
@@ -2576,10 +2535,11 @@ public class PlayFabServerAPI {
 
     /** Retrieves the information on the available versions of the specified statistic. */
     @SuppressWarnings("unchecked")
-    private static PlayFabResult<GetPlayerStatisticVersionsResult> privateGetPlayerStatisticVersionsAsync(final GetPlayerStatisticVersionsRequest request) throws Exception {
-        if (PlayFabSettings.DeveloperSecretKey == null) throw new Exception ("Must have PlayFabSettings.DeveloperSecretKey set to call this method");
+    static PlayFabResult<GetPlayerStatisticVersionsResult> privateGetPlayerStatisticVersionsAsync(final PlayFabInstanceAPI instance, final GetPlayerStatisticVersionsRequest request) throws Exception {
+        final PlayFabApiContext context = PlayFabInstanceAPI.contextOf(instance);
+        if (context.getDeveloperSecretKey() == null) throw new Exception ("Must have PlayFabSettings.DeveloperSecretKey set to call this method");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Server/GetPlayerStatisticVersions"), request, "X-SecretKey", PlayFabSettings.DeveloperSecretKey);
+        FutureTask<Object> task = PlayFabHTTP.doPost(context.getURL("/Server/GetPlayerStatisticVersions"), request, "X-SecretKey", context.getDeveloperSecretKey(), GetPlayerStatisticVersionsResult.class);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -2590,9 +2550,7 @@ public class PlayFabServerAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
-
-        PlayFabJsonSuccess<GetPlayerStatisticVersionsResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<GetPlayerStatisticVersionsResult>>(){}.getType());
+        PlayFabJsonSuccess<GetPlayerStatisticVersionsResult> resultData = (PlayFabJsonSuccess<GetPlayerStatisticVersionsResult>) httpResult;
         GetPlayerStatisticVersionsResult result = resultData.data;
 
         PlayFabResult<GetPlayerStatisticVersionsResult> pfResult = new PlayFabResult<GetPlayerStatisticVersionsResult>();
@@ -2609,7 +2567,7 @@ public class PlayFabServerAPI {
     public static FutureTask<PlayFabResult<GetPlayerTagsResult>> GetPlayerTagsAsync(final GetPlayerTagsRequest request) {
         return new FutureTask(new Callable<PlayFabResult<GetPlayerTagsResult>>() {
             public PlayFabResult<GetPlayerTagsResult> call() throws Exception {
-                return privateGetPlayerTagsAsync(request);
+                return privateGetPlayerTagsAsync(null, request);
             }
         });
     }
@@ -2623,7 +2581,7 @@ public class PlayFabServerAPI {
     public static PlayFabResult<GetPlayerTagsResult> GetPlayerTags(final GetPlayerTagsRequest request) {
         FutureTask<PlayFabResult<GetPlayerTagsResult>> task = new FutureTask(new Callable<PlayFabResult<GetPlayerTagsResult>>() {
             public PlayFabResult<GetPlayerTagsResult> call() throws Exception {
-                return privateGetPlayerTagsAsync(request);
+                return privateGetPlayerTagsAsync(null, request);
             }
         });
         try {
@@ -2638,10 +2596,11 @@ public class PlayFabServerAPI {
 
     /** Get all tags with a given Namespace (optional) from a player profile. */
     @SuppressWarnings("unchecked")
-    private static PlayFabResult<GetPlayerTagsResult> privateGetPlayerTagsAsync(final GetPlayerTagsRequest request) throws Exception {
-        if (PlayFabSettings.DeveloperSecretKey == null) throw new Exception ("Must have PlayFabSettings.DeveloperSecretKey set to call this method");
+    static PlayFabResult<GetPlayerTagsResult> privateGetPlayerTagsAsync(final PlayFabInstanceAPI instance, final GetPlayerTagsRequest request) throws Exception {
+        final PlayFabApiContext context = PlayFabInstanceAPI.contextOf(instance);
+        if (context.getDeveloperSecretKey() == null) throw new Exception ("Must have PlayFabSettings.DeveloperSecretKey set to call this method");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Server/GetPlayerTags"), request, "X-SecretKey", PlayFabSettings.DeveloperSecretKey);
+        FutureTask<Object> task = PlayFabHTTP.doPost(context.getURL("/Server/GetPlayerTags"), request, "X-SecretKey", context.getDeveloperSecretKey(), GetPlayerTagsResult.class);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -2652,9 +2611,7 @@ public class PlayFabServerAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
-
-        PlayFabJsonSuccess<GetPlayerTagsResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<GetPlayerTagsResult>>(){}.getType());
+        PlayFabJsonSuccess<GetPlayerTagsResult> resultData = (PlayFabJsonSuccess<GetPlayerTagsResult>) httpResult;
         GetPlayerTagsResult result = resultData.data;
 
         PlayFabResult<GetPlayerTagsResult> pfResult = new PlayFabResult<GetPlayerTagsResult>();
@@ -2671,7 +2628,7 @@ public class PlayFabServerAPI {
     public static FutureTask<PlayFabResult<GetPlayFabIDsFromFacebookIDsResult>> GetPlayFabIDsFromFacebookIDsAsync(final GetPlayFabIDsFromFacebookIDsRequest request) {
         return new FutureTask(new Callable<PlayFabResult<GetPlayFabIDsFromFacebookIDsResult>>() {
             public PlayFabResult<GetPlayFabIDsFromFacebookIDsResult> call() throws Exception {
-                return privateGetPlayFabIDsFromFacebookIDsAsync(request);
+                return privateGetPlayFabIDsFromFacebookIDsAsync(null, request);
             }
         });
     }
@@ -2685,7 +2642,7 @@ public class PlayFabServerAPI {
     public static PlayFabResult<GetPlayFabIDsFromFacebookIDsResult> GetPlayFabIDsFromFacebookIDs(final GetPlayFabIDsFromFacebookIDsRequest request) {
         FutureTask<PlayFabResult<GetPlayFabIDsFromFacebookIDsResult>> task = new FutureTask(new Callable<PlayFabResult<GetPlayFabIDsFromFacebookIDsResult>>() {
             public PlayFabResult<GetPlayFabIDsFromFacebookIDsResult> call() throws Exception {
-                return privateGetPlayFabIDsFromFacebookIDsAsync(request);
+                return privateGetPlayFabIDsFromFacebookIDsAsync(null, request);
             }
         });
         try {
@@ -2700,10 +2657,11 @@ public class PlayFabServerAPI {
 
     /** Retrieves the unique PlayFab identifiers for the given set of Facebook identifiers. */
     @SuppressWarnings("unchecked")
-    private static PlayFabResult<GetPlayFabIDsFromFacebookIDsResult> privateGetPlayFabIDsFromFacebookIDsAsync(final GetPlayFabIDsFromFacebookIDsRequest request) throws Exception {
-        if (PlayFabSettings.DeveloperSecretKey == null) throw new Exception ("Must have PlayFabSettings.DeveloperSecretKey set to call this method");
+    static PlayFabResult<GetPlayFabIDsFromFacebookIDsResult> privateGetPlayFabIDsFromFacebookIDsAsync(final PlayFabInstanceAPI instance, final GetPlayFabIDsFromFacebookIDsRequest request) throws Exception {
+        final PlayFabApiContext context = PlayFabInstanceAPI.contextOf(instance);
+        if (context.getDeveloperSecretKey() == null) throw new Exception ("Must have PlayFabSettings.DeveloperSecretKey set to call this method");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Server/GetPlayFabIDsFromFacebookIDs"), request, "X-SecretKey", PlayFabSettings.DeveloperSecretKey);
+        FutureTask<Object> task = PlayFabHTTP.doPost(context.getURL("/Server/GetPlayFabIDsFromFacebookIDs"), request, "X-SecretKey", context.getDeveloperSecretKey(), GetPlayFabIDsFromFacebookIDsResult.class);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -2714,9 +2672,7 @@ public class PlayFabServerAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
-
-        PlayFabJsonSuccess<GetPlayFabIDsFromFacebookIDsResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<GetPlayFabIDsFromFacebookIDsResult>>(){}.getType());
+        PlayFabJsonSuccess<GetPlayFabIDsFromFacebookIDsResult> resultData = (PlayFabJsonSuccess<GetPlayFabIDsFromFacebookIDsResult>) httpResult;
         GetPlayFabIDsFromFacebookIDsResult result = resultData.data;
 
         PlayFabResult<GetPlayFabIDsFromFacebookIDsResult> pfResult = new PlayFabResult<GetPlayFabIDsFromFacebookIDsResult>();
@@ -2733,7 +2689,7 @@ public class PlayFabServerAPI {
     public static FutureTask<PlayFabResult<GetPlayFabIDsFromFacebookInstantGamesIdsResult>> GetPlayFabIDsFromFacebookInstantGamesIdsAsync(final GetPlayFabIDsFromFacebookInstantGamesIdsRequest request) {
         return new FutureTask(new Callable<PlayFabResult<GetPlayFabIDsFromFacebookInstantGamesIdsResult>>() {
             public PlayFabResult<GetPlayFabIDsFromFacebookInstantGamesIdsResult> call() throws Exception {
-                return privateGetPlayFabIDsFromFacebookInstantGamesIdsAsync(request);
+                return privateGetPlayFabIDsFromFacebookInstantGamesIdsAsync(null, request);
             }
         });
     }
@@ -2747,7 +2703,7 @@ public class PlayFabServerAPI {
     public static PlayFabResult<GetPlayFabIDsFromFacebookInstantGamesIdsResult> GetPlayFabIDsFromFacebookInstantGamesIds(final GetPlayFabIDsFromFacebookInstantGamesIdsRequest request) {
         FutureTask<PlayFabResult<GetPlayFabIDsFromFacebookInstantGamesIdsResult>> task = new FutureTask(new Callable<PlayFabResult<GetPlayFabIDsFromFacebookInstantGamesIdsResult>>() {
             public PlayFabResult<GetPlayFabIDsFromFacebookInstantGamesIdsResult> call() throws Exception {
-                return privateGetPlayFabIDsFromFacebookInstantGamesIdsAsync(request);
+                return privateGetPlayFabIDsFromFacebookInstantGamesIdsAsync(null, request);
             }
         });
         try {
@@ -2762,10 +2718,11 @@ public class PlayFabServerAPI {
 
     /** Retrieves the unique PlayFab identifiers for the given set of Facebook Instant Games identifiers. */
     @SuppressWarnings("unchecked")
-    private static PlayFabResult<GetPlayFabIDsFromFacebookInstantGamesIdsResult> privateGetPlayFabIDsFromFacebookInstantGamesIdsAsync(final GetPlayFabIDsFromFacebookInstantGamesIdsRequest request) throws Exception {
-        if (PlayFabSettings.DeveloperSecretKey == null) throw new Exception ("Must have PlayFabSettings.DeveloperSecretKey set to call this method");
+    static PlayFabResult<GetPlayFabIDsFromFacebookInstantGamesIdsResult> privateGetPlayFabIDsFromFacebookInstantGamesIdsAsync(final PlayFabInstanceAPI instance, final GetPlayFabIDsFromFacebookInstantGamesIdsRequest request) throws Exception {
+        final PlayFabApiContext context = PlayFabInstanceAPI.contextOf(instance);
+        if (context.getDeveloperSecretKey() == null) throw new Exception ("Must have PlayFabSettings.DeveloperSecretKey set to call this method");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Server/GetPlayFabIDsFromFacebookInstantGamesIds"), request, "X-SecretKey", PlayFabSettings.DeveloperSecretKey);
+        FutureTask<Object> task = PlayFabHTTP.doPost(context.getURL("/Server/GetPlayFabIDsFromFacebookInstantGamesIds"), request, "X-SecretKey", context.getDeveloperSecretKey(), GetPlayFabIDsFromFacebookInstantGamesIdsResult.class);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -2776,9 +2733,7 @@ public class PlayFabServerAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
-
-        PlayFabJsonSuccess<GetPlayFabIDsFromFacebookInstantGamesIdsResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<GetPlayFabIDsFromFacebookInstantGamesIdsResult>>(){}.getType());
+        PlayFabJsonSuccess<GetPlayFabIDsFromFacebookInstantGamesIdsResult> resultData = (PlayFabJsonSuccess<GetPlayFabIDsFromFacebookInstantGamesIdsResult>) httpResult;
         GetPlayFabIDsFromFacebookInstantGamesIdsResult result = resultData.data;
 
         PlayFabResult<GetPlayFabIDsFromFacebookInstantGamesIdsResult> pfResult = new PlayFabResult<GetPlayFabIDsFromFacebookInstantGamesIdsResult>();
@@ -2797,7 +2752,7 @@ public class PlayFabServerAPI {
     public static FutureTask<PlayFabResult<GetPlayFabIDsFromGenericIDsResult>> GetPlayFabIDsFromGenericIDsAsync(final GetPlayFabIDsFromGenericIDsRequest request) {
         return new FutureTask(new Callable<PlayFabResult<GetPlayFabIDsFromGenericIDsResult>>() {
             public PlayFabResult<GetPlayFabIDsFromGenericIDsResult> call() throws Exception {
-                return privateGetPlayFabIDsFromGenericIDsAsync(request);
+                return privateGetPlayFabIDsFromGenericIDsAsync(null, request);
             }
         });
     }
@@ -2813,7 +2768,7 @@ public class PlayFabServerAPI {
     public static PlayFabResult<GetPlayFabIDsFromGenericIDsResult> GetPlayFabIDsFromGenericIDs(final GetPlayFabIDsFromGenericIDsRequest request) {
         FutureTask<PlayFabResult<GetPlayFabIDsFromGenericIDsResult>> task = new FutureTask(new Callable<PlayFabResult<GetPlayFabIDsFromGenericIDsResult>>() {
             public PlayFabResult<GetPlayFabIDsFromGenericIDsResult> call() throws Exception {
-                return privateGetPlayFabIDsFromGenericIDsAsync(request);
+                return privateGetPlayFabIDsFromGenericIDsAsync(null, request);
             }
         });
         try {
@@ -2832,10 +2787,11 @@ public class PlayFabServerAPI {
      * added to the player account.
      */
     @SuppressWarnings("unchecked")
-    private static PlayFabResult<GetPlayFabIDsFromGenericIDsResult> privateGetPlayFabIDsFromGenericIDsAsync(final GetPlayFabIDsFromGenericIDsRequest request) throws Exception {
-        if (PlayFabSettings.DeveloperSecretKey == null) throw new Exception ("Must have PlayFabSettings.DeveloperSecretKey set to call this method");
+    static PlayFabResult<GetPlayFabIDsFromGenericIDsResult> privateGetPlayFabIDsFromGenericIDsAsync(final PlayFabInstanceAPI instance, final GetPlayFabIDsFromGenericIDsRequest request) throws Exception {
+        final PlayFabApiContext context = PlayFabInstanceAPI.contextOf(instance);
+        if (context.getDeveloperSecretKey() == null) throw new Exception ("Must have PlayFabSettings.DeveloperSecretKey set to call this method");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Server/GetPlayFabIDsFromGenericIDs"), request, "X-SecretKey", PlayFabSettings.DeveloperSecretKey);
+        FutureTask<Object> task = PlayFabHTTP.doPost(context.getURL("/Server/GetPlayFabIDsFromGenericIDs"), request, "X-SecretKey", context.getDeveloperSecretKey(), GetPlayFabIDsFromGenericIDsResult.class);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -2846,9 +2802,7 @@ public class PlayFabServerAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
-
-        PlayFabJsonSuccess<GetPlayFabIDsFromGenericIDsResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<GetPlayFabIDsFromGenericIDsResult>>(){}.getType());
+        PlayFabJsonSuccess<GetPlayFabIDsFromGenericIDsResult> resultData = (PlayFabJsonSuccess<GetPlayFabIDsFromGenericIDsResult>) httpResult;
         GetPlayFabIDsFromGenericIDsResult result = resultData.data;
 
         PlayFabResult<GetPlayFabIDsFromGenericIDsResult> pfResult = new PlayFabResult<GetPlayFabIDsFromGenericIDsResult>();
@@ -2865,7 +2819,7 @@ public class PlayFabServerAPI {
     public static FutureTask<PlayFabResult<GetPlayFabIDsFromNintendoSwitchDeviceIdsResult>> GetPlayFabIDsFromNintendoSwitchDeviceIdsAsync(final GetPlayFabIDsFromNintendoSwitchDeviceIdsRequest request) {
         return new FutureTask(new Callable<PlayFabResult<GetPlayFabIDsFromNintendoSwitchDeviceIdsResult>>() {
             public PlayFabResult<GetPlayFabIDsFromNintendoSwitchDeviceIdsResult> call() throws Exception {
-                return privateGetPlayFabIDsFromNintendoSwitchDeviceIdsAsync(request);
+                return privateGetPlayFabIDsFromNintendoSwitchDeviceIdsAsync(null, request);
             }
         });
     }
@@ -2879,7 +2833,7 @@ public class PlayFabServerAPI {
     public static PlayFabResult<GetPlayFabIDsFromNintendoSwitchDeviceIdsResult> GetPlayFabIDsFromNintendoSwitchDeviceIds(final GetPlayFabIDsFromNintendoSwitchDeviceIdsRequest request) {
         FutureTask<PlayFabResult<GetPlayFabIDsFromNintendoSwitchDeviceIdsResult>> task = new FutureTask(new Callable<PlayFabResult<GetPlayFabIDsFromNintendoSwitchDeviceIdsResult>>() {
             public PlayFabResult<GetPlayFabIDsFromNintendoSwitchDeviceIdsResult> call() throws Exception {
-                return privateGetPlayFabIDsFromNintendoSwitchDeviceIdsAsync(request);
+                return privateGetPlayFabIDsFromNintendoSwitchDeviceIdsAsync(null, request);
             }
         });
         try {
@@ -2894,10 +2848,11 @@ public class PlayFabServerAPI {
 
     /** Retrieves the unique PlayFab identifiers for the given set of Nintendo Switch Device identifiers. */
     @SuppressWarnings("unchecked")
-    private static PlayFabResult<GetPlayFabIDsFromNintendoSwitchDeviceIdsResult> privateGetPlayFabIDsFromNintendoSwitchDeviceIdsAsync(final GetPlayFabIDsFromNintendoSwitchDeviceIdsRequest request) throws Exception {
-        if (PlayFabSettings.DeveloperSecretKey == null) throw new Exception ("Must have PlayFabSettings.DeveloperSecretKey set to call this method");
+    static PlayFabResult<GetPlayFabIDsFromNintendoSwitchDeviceIdsResult> privateGetPlayFabIDsFromNintendoSwitchDeviceIdsAsync(final PlayFabInstanceAPI instance, final GetPlayFabIDsFromNintendoSwitchDeviceIdsRequest request) throws Exception {
+        final PlayFabApiContext context = PlayFabInstanceAPI.contextOf(instance);
+        if (context.getDeveloperSecretKey() == null) throw new Exception ("Must have PlayFabSettings.DeveloperSecretKey set to call this method");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Server/GetPlayFabIDsFromNintendoSwitchDeviceIds"), request, "X-SecretKey", PlayFabSettings.DeveloperSecretKey);
+        FutureTask<Object> task = PlayFabHTTP.doPost(context.getURL("/Server/GetPlayFabIDsFromNintendoSwitchDeviceIds"), request, "X-SecretKey", context.getDeveloperSecretKey(), GetPlayFabIDsFromNintendoSwitchDeviceIdsResult.class);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -2908,9 +2863,7 @@ public class PlayFabServerAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
-
-        PlayFabJsonSuccess<GetPlayFabIDsFromNintendoSwitchDeviceIdsResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<GetPlayFabIDsFromNintendoSwitchDeviceIdsResult>>(){}.getType());
+        PlayFabJsonSuccess<GetPlayFabIDsFromNintendoSwitchDeviceIdsResult> resultData = (PlayFabJsonSuccess<GetPlayFabIDsFromNintendoSwitchDeviceIdsResult>) httpResult;
         GetPlayFabIDsFromNintendoSwitchDeviceIdsResult result = resultData.data;
 
         PlayFabResult<GetPlayFabIDsFromNintendoSwitchDeviceIdsResult> pfResult = new PlayFabResult<GetPlayFabIDsFromNintendoSwitchDeviceIdsResult>();
@@ -2927,7 +2880,7 @@ public class PlayFabServerAPI {
     public static FutureTask<PlayFabResult<GetPlayFabIDsFromPSNAccountIDsResult>> GetPlayFabIDsFromPSNAccountIDsAsync(final GetPlayFabIDsFromPSNAccountIDsRequest request) {
         return new FutureTask(new Callable<PlayFabResult<GetPlayFabIDsFromPSNAccountIDsResult>>() {
             public PlayFabResult<GetPlayFabIDsFromPSNAccountIDsResult> call() throws Exception {
-                return privateGetPlayFabIDsFromPSNAccountIDsAsync(request);
+                return privateGetPlayFabIDsFromPSNAccountIDsAsync(null, request);
             }
         });
     }
@@ -2941,7 +2894,7 @@ public class PlayFabServerAPI {
     public static PlayFabResult<GetPlayFabIDsFromPSNAccountIDsResult> GetPlayFabIDsFromPSNAccountIDs(final GetPlayFabIDsFromPSNAccountIDsRequest request) {
         FutureTask<PlayFabResult<GetPlayFabIDsFromPSNAccountIDsResult>> task = new FutureTask(new Callable<PlayFabResult<GetPlayFabIDsFromPSNAccountIDsResult>>() {
             public PlayFabResult<GetPlayFabIDsFromPSNAccountIDsResult> call() throws Exception {
-                return privateGetPlayFabIDsFromPSNAccountIDsAsync(request);
+                return privateGetPlayFabIDsFromPSNAccountIDsAsync(null, request);
             }
         });
         try {
@@ -2956,10 +2909,11 @@ public class PlayFabServerAPI {
 
     /** Retrieves the unique PlayFab identifiers for the given set of PlayStation Network identifiers. */
     @SuppressWarnings("unchecked")
-    private static PlayFabResult<GetPlayFabIDsFromPSNAccountIDsResult> privateGetPlayFabIDsFromPSNAccountIDsAsync(final GetPlayFabIDsFromPSNAccountIDsRequest request) throws Exception {
-        if (PlayFabSettings.DeveloperSecretKey == null) throw new Exception ("Must have PlayFabSettings.DeveloperSecretKey set to call this method");
+    static PlayFabResult<GetPlayFabIDsFromPSNAccountIDsResult> privateGetPlayFabIDsFromPSNAccountIDsAsync(final PlayFabInstanceAPI instance, final GetPlayFabIDsFromPSNAccountIDsRequest request) throws Exception {
+        final PlayFabApiContext context = PlayFabInstanceAPI.contextOf(instance);
+        if (context.getDeveloperSecretKey() == null) throw new Exception ("Must have PlayFabSettings.DeveloperSecretKey set to call this method");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Server/GetPlayFabIDsFromPSNAccountIDs"), request, "X-SecretKey", PlayFabSettings.DeveloperSecretKey);
+        FutureTask<Object> task = PlayFabHTTP.doPost(context.getURL("/Server/GetPlayFabIDsFromPSNAccountIDs"), request, "X-SecretKey", context.getDeveloperSecretKey(), GetPlayFabIDsFromPSNAccountIDsResult.class);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -2970,9 +2924,7 @@ public class PlayFabServerAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
-
-        PlayFabJsonSuccess<GetPlayFabIDsFromPSNAccountIDsResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<GetPlayFabIDsFromPSNAccountIDsResult>>(){}.getType());
+        PlayFabJsonSuccess<GetPlayFabIDsFromPSNAccountIDsResult> resultData = (PlayFabJsonSuccess<GetPlayFabIDsFromPSNAccountIDsResult>) httpResult;
         GetPlayFabIDsFromPSNAccountIDsResult result = resultData.data;
 
         PlayFabResult<GetPlayFabIDsFromPSNAccountIDsResult> pfResult = new PlayFabResult<GetPlayFabIDsFromPSNAccountIDsResult>();
@@ -2990,7 +2942,7 @@ public class PlayFabServerAPI {
     public static FutureTask<PlayFabResult<GetPlayFabIDsFromSteamIDsResult>> GetPlayFabIDsFromSteamIDsAsync(final GetPlayFabIDsFromSteamIDsRequest request) {
         return new FutureTask(new Callable<PlayFabResult<GetPlayFabIDsFromSteamIDsResult>>() {
             public PlayFabResult<GetPlayFabIDsFromSteamIDsResult> call() throws Exception {
-                return privateGetPlayFabIDsFromSteamIDsAsync(request);
+                return privateGetPlayFabIDsFromSteamIDsAsync(null, request);
             }
         });
     }
@@ -3005,7 +2957,7 @@ public class PlayFabServerAPI {
     public static PlayFabResult<GetPlayFabIDsFromSteamIDsResult> GetPlayFabIDsFromSteamIDs(final GetPlayFabIDsFromSteamIDsRequest request) {
         FutureTask<PlayFabResult<GetPlayFabIDsFromSteamIDsResult>> task = new FutureTask(new Callable<PlayFabResult<GetPlayFabIDsFromSteamIDsResult>>() {
             public PlayFabResult<GetPlayFabIDsFromSteamIDsResult> call() throws Exception {
-                return privateGetPlayFabIDsFromSteamIDsAsync(request);
+                return privateGetPlayFabIDsFromSteamIDsAsync(null, request);
             }
         });
         try {
@@ -3023,10 +2975,11 @@ public class PlayFabServerAPI {
      * IDs for the user accounts, available as SteamId in the Steamworks Community API calls.
      */
     @SuppressWarnings("unchecked")
-    private static PlayFabResult<GetPlayFabIDsFromSteamIDsResult> privateGetPlayFabIDsFromSteamIDsAsync(final GetPlayFabIDsFromSteamIDsRequest request) throws Exception {
-        if (PlayFabSettings.DeveloperSecretKey == null) throw new Exception ("Must have PlayFabSettings.DeveloperSecretKey set to call this method");
+    static PlayFabResult<GetPlayFabIDsFromSteamIDsResult> privateGetPlayFabIDsFromSteamIDsAsync(final PlayFabInstanceAPI instance, final GetPlayFabIDsFromSteamIDsRequest request) throws Exception {
+        final PlayFabApiContext context = PlayFabInstanceAPI.contextOf(instance);
+        if (context.getDeveloperSecretKey() == null) throw new Exception ("Must have PlayFabSettings.DeveloperSecretKey set to call this method");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Server/GetPlayFabIDsFromSteamIDs"), request, "X-SecretKey", PlayFabSettings.DeveloperSecretKey);
+        FutureTask<Object> task = PlayFabHTTP.doPost(context.getURL("/Server/GetPlayFabIDsFromSteamIDs"), request, "X-SecretKey", context.getDeveloperSecretKey(), GetPlayFabIDsFromSteamIDsResult.class);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -3037,9 +2990,7 @@ public class PlayFabServerAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
-
-        PlayFabJsonSuccess<GetPlayFabIDsFromSteamIDsResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<GetPlayFabIDsFromSteamIDsResult>>(){}.getType());
+        PlayFabJsonSuccess<GetPlayFabIDsFromSteamIDsResult> resultData = (PlayFabJsonSuccess<GetPlayFabIDsFromSteamIDsResult>) httpResult;
         GetPlayFabIDsFromSteamIDsResult result = resultData.data;
 
         PlayFabResult<GetPlayFabIDsFromSteamIDsResult> pfResult = new PlayFabResult<GetPlayFabIDsFromSteamIDsResult>();
@@ -3056,7 +3007,7 @@ public class PlayFabServerAPI {
     public static FutureTask<PlayFabResult<GetPlayFabIDsFromXboxLiveIDsResult>> GetPlayFabIDsFromXboxLiveIDsAsync(final GetPlayFabIDsFromXboxLiveIDsRequest request) {
         return new FutureTask(new Callable<PlayFabResult<GetPlayFabIDsFromXboxLiveIDsResult>>() {
             public PlayFabResult<GetPlayFabIDsFromXboxLiveIDsResult> call() throws Exception {
-                return privateGetPlayFabIDsFromXboxLiveIDsAsync(request);
+                return privateGetPlayFabIDsFromXboxLiveIDsAsync(null, request);
             }
         });
     }
@@ -3070,7 +3021,7 @@ public class PlayFabServerAPI {
     public static PlayFabResult<GetPlayFabIDsFromXboxLiveIDsResult> GetPlayFabIDsFromXboxLiveIDs(final GetPlayFabIDsFromXboxLiveIDsRequest request) {
         FutureTask<PlayFabResult<GetPlayFabIDsFromXboxLiveIDsResult>> task = new FutureTask(new Callable<PlayFabResult<GetPlayFabIDsFromXboxLiveIDsResult>>() {
             public PlayFabResult<GetPlayFabIDsFromXboxLiveIDsResult> call() throws Exception {
-                return privateGetPlayFabIDsFromXboxLiveIDsAsync(request);
+                return privateGetPlayFabIDsFromXboxLiveIDsAsync(null, request);
             }
         });
         try {
@@ -3085,10 +3036,11 @@ public class PlayFabServerAPI {
 
     /** Retrieves the unique PlayFab identifiers for the given set of XboxLive identifiers. */
     @SuppressWarnings("unchecked")
-    private static PlayFabResult<GetPlayFabIDsFromXboxLiveIDsResult> privateGetPlayFabIDsFromXboxLiveIDsAsync(final GetPlayFabIDsFromXboxLiveIDsRequest request) throws Exception {
-        if (PlayFabSettings.DeveloperSecretKey == null) throw new Exception ("Must have PlayFabSettings.DeveloperSecretKey set to call this method");
+    static PlayFabResult<GetPlayFabIDsFromXboxLiveIDsResult> privateGetPlayFabIDsFromXboxLiveIDsAsync(final PlayFabInstanceAPI instance, final GetPlayFabIDsFromXboxLiveIDsRequest request) throws Exception {
+        final PlayFabApiContext context = PlayFabInstanceAPI.contextOf(instance);
+        if (context.getDeveloperSecretKey() == null) throw new Exception ("Must have PlayFabSettings.DeveloperSecretKey set to call this method");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Server/GetPlayFabIDsFromXboxLiveIDs"), request, "X-SecretKey", PlayFabSettings.DeveloperSecretKey);
+        FutureTask<Object> task = PlayFabHTTP.doPost(context.getURL("/Server/GetPlayFabIDsFromXboxLiveIDs"), request, "X-SecretKey", context.getDeveloperSecretKey(), GetPlayFabIDsFromXboxLiveIDsResult.class);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -3099,9 +3051,7 @@ public class PlayFabServerAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
-
-        PlayFabJsonSuccess<GetPlayFabIDsFromXboxLiveIDsResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<GetPlayFabIDsFromXboxLiveIDsResult>>(){}.getType());
+        PlayFabJsonSuccess<GetPlayFabIDsFromXboxLiveIDsResult> resultData = (PlayFabJsonSuccess<GetPlayFabIDsFromXboxLiveIDsResult>) httpResult;
         GetPlayFabIDsFromXboxLiveIDsResult result = resultData.data;
 
         PlayFabResult<GetPlayFabIDsFromXboxLiveIDsResult> pfResult = new PlayFabResult<GetPlayFabIDsFromXboxLiveIDsResult>();
@@ -3118,7 +3068,7 @@ public class PlayFabServerAPI {
     public static FutureTask<PlayFabResult<GetPublisherDataResult>> GetPublisherDataAsync(final GetPublisherDataRequest request) {
         return new FutureTask(new Callable<PlayFabResult<GetPublisherDataResult>>() {
             public PlayFabResult<GetPublisherDataResult> call() throws Exception {
-                return privateGetPublisherDataAsync(request);
+                return privateGetPublisherDataAsync(null, request);
             }
         });
     }
@@ -3132,7 +3082,7 @@ public class PlayFabServerAPI {
     public static PlayFabResult<GetPublisherDataResult> GetPublisherData(final GetPublisherDataRequest request) {
         FutureTask<PlayFabResult<GetPublisherDataResult>> task = new FutureTask(new Callable<PlayFabResult<GetPublisherDataResult>>() {
             public PlayFabResult<GetPublisherDataResult> call() throws Exception {
-                return privateGetPublisherDataAsync(request);
+                return privateGetPublisherDataAsync(null, request);
             }
         });
         try {
@@ -3147,10 +3097,11 @@ public class PlayFabServerAPI {
 
     /** Retrieves the key-value store of custom publisher settings */
     @SuppressWarnings("unchecked")
-    private static PlayFabResult<GetPublisherDataResult> privateGetPublisherDataAsync(final GetPublisherDataRequest request) throws Exception {
-        if (PlayFabSettings.DeveloperSecretKey == null) throw new Exception ("Must have PlayFabSettings.DeveloperSecretKey set to call this method");
+    static PlayFabResult<GetPublisherDataResult> privateGetPublisherDataAsync(final PlayFabInstanceAPI instance, final GetPublisherDataRequest request) throws Exception {
+        final PlayFabApiContext context = PlayFabInstanceAPI.contextOf(instance);
+        if (context.getDeveloperSecretKey() == null) throw new Exception ("Must have PlayFabSettings.DeveloperSecretKey set to call this method");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Server/GetPublisherData"), request, "X-SecretKey", PlayFabSettings.DeveloperSecretKey);
+        FutureTask<Object> task = PlayFabHTTP.doPost(context.getURL("/Server/GetPublisherData"), request, "X-SecretKey", context.getDeveloperSecretKey(), GetPublisherDataResult.class);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -3161,9 +3112,7 @@ public class PlayFabServerAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
-
-        PlayFabJsonSuccess<GetPublisherDataResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<GetPublisherDataResult>>(){}.getType());
+        PlayFabJsonSuccess<GetPublisherDataResult> resultData = (PlayFabJsonSuccess<GetPublisherDataResult>) httpResult;
         GetPublisherDataResult result = resultData.data;
 
         PlayFabResult<GetPublisherDataResult> pfResult = new PlayFabResult<GetPublisherDataResult>();
@@ -3181,7 +3130,7 @@ public class PlayFabServerAPI {
     public static FutureTask<PlayFabResult<GetRandomResultTablesResult>> GetRandomResultTablesAsync(final GetRandomResultTablesRequest request) {
         return new FutureTask(new Callable<PlayFabResult<GetRandomResultTablesResult>>() {
             public PlayFabResult<GetRandomResultTablesResult> call() throws Exception {
-                return privateGetRandomResultTablesAsync(request);
+                return privateGetRandomResultTablesAsync(null, request);
             }
         });
     }
@@ -3196,7 +3145,7 @@ public class PlayFabServerAPI {
     public static PlayFabResult<GetRandomResultTablesResult> GetRandomResultTables(final GetRandomResultTablesRequest request) {
         FutureTask<PlayFabResult<GetRandomResultTablesResult>> task = new FutureTask(new Callable<PlayFabResult<GetRandomResultTablesResult>>() {
             public PlayFabResult<GetRandomResultTablesResult> call() throws Exception {
-                return privateGetRandomResultTablesAsync(request);
+                return privateGetRandomResultTablesAsync(null, request);
             }
         });
         try {
@@ -3214,10 +3163,11 @@ public class PlayFabServerAPI {
      * values and weights
      */
     @SuppressWarnings("unchecked")
-    private static PlayFabResult<GetRandomResultTablesResult> privateGetRandomResultTablesAsync(final GetRandomResultTablesRequest request) throws Exception {
-        if (PlayFabSettings.DeveloperSecretKey == null) throw new Exception ("Must have PlayFabSettings.DeveloperSecretKey set to call this method");
+    static PlayFabResult<GetRandomResultTablesResult> privateGetRandomResultTablesAsync(final PlayFabInstanceAPI instance, final GetRandomResultTablesRequest request) throws Exception {
+        final PlayFabApiContext context = PlayFabInstanceAPI.contextOf(instance);
+        if (context.getDeveloperSecretKey() == null) throw new Exception ("Must have PlayFabSettings.DeveloperSecretKey set to call this method");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Server/GetRandomResultTables"), request, "X-SecretKey", PlayFabSettings.DeveloperSecretKey);
+        FutureTask<Object> task = PlayFabHTTP.doPost(context.getURL("/Server/GetRandomResultTables"), request, "X-SecretKey", context.getDeveloperSecretKey(), GetRandomResultTablesResult.class);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -3228,9 +3178,7 @@ public class PlayFabServerAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
-
-        PlayFabJsonSuccess<GetRandomResultTablesResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<GetRandomResultTablesResult>>(){}.getType());
+        PlayFabJsonSuccess<GetRandomResultTablesResult> resultData = (PlayFabJsonSuccess<GetRandomResultTablesResult>) httpResult;
         GetRandomResultTablesResult result = resultData.data;
 
         PlayFabResult<GetRandomResultTablesResult> pfResult = new PlayFabResult<GetRandomResultTablesResult>();
@@ -3247,7 +3195,7 @@ public class PlayFabServerAPI {
     public static FutureTask<PlayFabResult<GetServerCustomIDsFromPlayFabIDsResult>> GetServerCustomIDsFromPlayFabIDsAsync(final GetServerCustomIDsFromPlayFabIDsRequest request) {
         return new FutureTask(new Callable<PlayFabResult<GetServerCustomIDsFromPlayFabIDsResult>>() {
             public PlayFabResult<GetServerCustomIDsFromPlayFabIDsResult> call() throws Exception {
-                return privateGetServerCustomIDsFromPlayFabIDsAsync(request);
+                return privateGetServerCustomIDsFromPlayFabIDsAsync(null, request);
             }
         });
     }
@@ -3261,7 +3209,7 @@ public class PlayFabServerAPI {
     public static PlayFabResult<GetServerCustomIDsFromPlayFabIDsResult> GetServerCustomIDsFromPlayFabIDs(final GetServerCustomIDsFromPlayFabIDsRequest request) {
         FutureTask<PlayFabResult<GetServerCustomIDsFromPlayFabIDsResult>> task = new FutureTask(new Callable<PlayFabResult<GetServerCustomIDsFromPlayFabIDsResult>>() {
             public PlayFabResult<GetServerCustomIDsFromPlayFabIDsResult> call() throws Exception {
-                return privateGetServerCustomIDsFromPlayFabIDsAsync(request);
+                return privateGetServerCustomIDsFromPlayFabIDsAsync(null, request);
             }
         });
         try {
@@ -3276,10 +3224,11 @@ public class PlayFabServerAPI {
 
     /** Retrieves the associated PlayFab account identifiers for the given set of server custom identifiers. */
     @SuppressWarnings("unchecked")
-    private static PlayFabResult<GetServerCustomIDsFromPlayFabIDsResult> privateGetServerCustomIDsFromPlayFabIDsAsync(final GetServerCustomIDsFromPlayFabIDsRequest request) throws Exception {
-        if (PlayFabSettings.DeveloperSecretKey == null) throw new Exception ("Must have PlayFabSettings.DeveloperSecretKey set to call this method");
+    static PlayFabResult<GetServerCustomIDsFromPlayFabIDsResult> privateGetServerCustomIDsFromPlayFabIDsAsync(final PlayFabInstanceAPI instance, final GetServerCustomIDsFromPlayFabIDsRequest request) throws Exception {
+        final PlayFabApiContext context = PlayFabInstanceAPI.contextOf(instance);
+        if (context.getDeveloperSecretKey() == null) throw new Exception ("Must have PlayFabSettings.DeveloperSecretKey set to call this method");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Server/GetServerCustomIDsFromPlayFabIDs"), request, "X-SecretKey", PlayFabSettings.DeveloperSecretKey);
+        FutureTask<Object> task = PlayFabHTTP.doPost(context.getURL("/Server/GetServerCustomIDsFromPlayFabIDs"), request, "X-SecretKey", context.getDeveloperSecretKey(), GetServerCustomIDsFromPlayFabIDsResult.class);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -3290,9 +3239,7 @@ public class PlayFabServerAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
-
-        PlayFabJsonSuccess<GetServerCustomIDsFromPlayFabIDsResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<GetServerCustomIDsFromPlayFabIDsResult>>(){}.getType());
+        PlayFabJsonSuccess<GetServerCustomIDsFromPlayFabIDsResult> resultData = (PlayFabJsonSuccess<GetServerCustomIDsFromPlayFabIDsResult>) httpResult;
         GetServerCustomIDsFromPlayFabIDsResult result = resultData.data;
 
         PlayFabResult<GetServerCustomIDsFromPlayFabIDsResult> pfResult = new PlayFabResult<GetServerCustomIDsFromPlayFabIDsResult>();
@@ -3311,7 +3258,7 @@ public class PlayFabServerAPI {
     public static FutureTask<PlayFabResult<GetSharedGroupDataResult>> GetSharedGroupDataAsync(final GetSharedGroupDataRequest request) {
         return new FutureTask(new Callable<PlayFabResult<GetSharedGroupDataResult>>() {
             public PlayFabResult<GetSharedGroupDataResult> call() throws Exception {
-                return privateGetSharedGroupDataAsync(request);
+                return privateGetSharedGroupDataAsync(null, request);
             }
         });
     }
@@ -3327,7 +3274,7 @@ public class PlayFabServerAPI {
     public static PlayFabResult<GetSharedGroupDataResult> GetSharedGroupData(final GetSharedGroupDataRequest request) {
         FutureTask<PlayFabResult<GetSharedGroupDataResult>> task = new FutureTask(new Callable<PlayFabResult<GetSharedGroupDataResult>>() {
             public PlayFabResult<GetSharedGroupDataResult> call() throws Exception {
-                return privateGetSharedGroupDataAsync(request);
+                return privateGetSharedGroupDataAsync(null, request);
             }
         });
         try {
@@ -3346,10 +3293,11 @@ public class PlayFabServerAPI {
      * please see our guide: https://docs.microsoft.com/gaming/playfab/features/social/groups/using-shared-group-data
      */
     @SuppressWarnings("unchecked")
-    private static PlayFabResult<GetSharedGroupDataResult> privateGetSharedGroupDataAsync(final GetSharedGroupDataRequest request) throws Exception {
-        if (PlayFabSettings.DeveloperSecretKey == null) throw new Exception ("Must have PlayFabSettings.DeveloperSecretKey set to call this method");
+    static PlayFabResult<GetSharedGroupDataResult> privateGetSharedGroupDataAsync(final PlayFabInstanceAPI instance, final GetSharedGroupDataRequest request) throws Exception {
+        final PlayFabApiContext context = PlayFabInstanceAPI.contextOf(instance);
+        if (context.getDeveloperSecretKey() == null) throw new Exception ("Must have PlayFabSettings.DeveloperSecretKey set to call this method");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Server/GetSharedGroupData"), request, "X-SecretKey", PlayFabSettings.DeveloperSecretKey);
+        FutureTask<Object> task = PlayFabHTTP.doPost(context.getURL("/Server/GetSharedGroupData"), request, "X-SecretKey", context.getDeveloperSecretKey(), GetSharedGroupDataResult.class);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -3360,9 +3308,7 @@ public class PlayFabServerAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
-
-        PlayFabJsonSuccess<GetSharedGroupDataResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<GetSharedGroupDataResult>>(){}.getType());
+        PlayFabJsonSuccess<GetSharedGroupDataResult> resultData = (PlayFabJsonSuccess<GetSharedGroupDataResult>) httpResult;
         GetSharedGroupDataResult result = resultData.data;
 
         PlayFabResult<GetSharedGroupDataResult> pfResult = new PlayFabResult<GetSharedGroupDataResult>();
@@ -3379,7 +3325,7 @@ public class PlayFabServerAPI {
     public static FutureTask<PlayFabResult<GetStoreItemsResult>> GetStoreItemsAsync(final GetStoreItemsServerRequest request) {
         return new FutureTask(new Callable<PlayFabResult<GetStoreItemsResult>>() {
             public PlayFabResult<GetStoreItemsResult> call() throws Exception {
-                return privateGetStoreItemsAsync(request);
+                return privateGetStoreItemsAsync(null, request);
             }
         });
     }
@@ -3393,7 +3339,7 @@ public class PlayFabServerAPI {
     public static PlayFabResult<GetStoreItemsResult> GetStoreItems(final GetStoreItemsServerRequest request) {
         FutureTask<PlayFabResult<GetStoreItemsResult>> task = new FutureTask(new Callable<PlayFabResult<GetStoreItemsResult>>() {
             public PlayFabResult<GetStoreItemsResult> call() throws Exception {
-                return privateGetStoreItemsAsync(request);
+                return privateGetStoreItemsAsync(null, request);
             }
         });
         try {
@@ -3408,10 +3354,11 @@ public class PlayFabServerAPI {
 
     /** Retrieves the set of items defined for the specified store, including all prices defined, for the specified player */
     @SuppressWarnings("unchecked")
-    private static PlayFabResult<GetStoreItemsResult> privateGetStoreItemsAsync(final GetStoreItemsServerRequest request) throws Exception {
-        if (PlayFabSettings.DeveloperSecretKey == null) throw new Exception ("Must have PlayFabSettings.DeveloperSecretKey set to call this method");
+    static PlayFabResult<GetStoreItemsResult> privateGetStoreItemsAsync(final PlayFabInstanceAPI instance, final GetStoreItemsServerRequest request) throws Exception {
+        final PlayFabApiContext context = PlayFabInstanceAPI.contextOf(instance);
+        if (context.getDeveloperSecretKey() == null) throw new Exception ("Must have PlayFabSettings.DeveloperSecretKey set to call this method");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Server/GetStoreItems"), request, "X-SecretKey", PlayFabSettings.DeveloperSecretKey);
+        FutureTask<Object> task = PlayFabHTTP.doPost(context.getURL("/Server/GetStoreItems"), request, "X-SecretKey", context.getDeveloperSecretKey(), GetStoreItemsResult.class);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -3422,9 +3369,7 @@ public class PlayFabServerAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
-
-        PlayFabJsonSuccess<GetStoreItemsResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<GetStoreItemsResult>>(){}.getType());
+        PlayFabJsonSuccess<GetStoreItemsResult> resultData = (PlayFabJsonSuccess<GetStoreItemsResult>) httpResult;
         GetStoreItemsResult result = resultData.data;
 
         PlayFabResult<GetStoreItemsResult> pfResult = new PlayFabResult<GetStoreItemsResult>();
@@ -3441,7 +3386,7 @@ public class PlayFabServerAPI {
     public static FutureTask<PlayFabResult<GetTimeResult>> GetTimeAsync(final GetTimeRequest request) {
         return new FutureTask(new Callable<PlayFabResult<GetTimeResult>>() {
             public PlayFabResult<GetTimeResult> call() throws Exception {
-                return privateGetTimeAsync(request);
+                return privateGetTimeAsync(null, request);
             }
         });
     }
@@ -3455,7 +3400,7 @@ public class PlayFabServerAPI {
     public static PlayFabResult<GetTimeResult> GetTime(final GetTimeRequest request) {
         FutureTask<PlayFabResult<GetTimeResult>> task = new FutureTask(new Callable<PlayFabResult<GetTimeResult>>() {
             public PlayFabResult<GetTimeResult> call() throws Exception {
-                return privateGetTimeAsync(request);
+                return privateGetTimeAsync(null, request);
             }
         });
         try {
@@ -3470,10 +3415,11 @@ public class PlayFabServerAPI {
 
     /** Retrieves the current server time */
     @SuppressWarnings("unchecked")
-    private static PlayFabResult<GetTimeResult> privateGetTimeAsync(final GetTimeRequest request) throws Exception {
-        if (PlayFabSettings.DeveloperSecretKey == null) throw new Exception ("Must have PlayFabSettings.DeveloperSecretKey set to call this method");
+    static PlayFabResult<GetTimeResult> privateGetTimeAsync(final PlayFabInstanceAPI instance, final GetTimeRequest request) throws Exception {
+        final PlayFabApiContext context = PlayFabInstanceAPI.contextOf(instance);
+        if (context.getDeveloperSecretKey() == null) throw new Exception ("Must have PlayFabSettings.DeveloperSecretKey set to call this method");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Server/GetTime"), request, "X-SecretKey", PlayFabSettings.DeveloperSecretKey);
+        FutureTask<Object> task = PlayFabHTTP.doPost(context.getURL("/Server/GetTime"), request, "X-SecretKey", context.getDeveloperSecretKey(), GetTimeResult.class);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -3484,9 +3430,7 @@ public class PlayFabServerAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
-
-        PlayFabJsonSuccess<GetTimeResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<GetTimeResult>>(){}.getType());
+        PlayFabJsonSuccess<GetTimeResult> resultData = (PlayFabJsonSuccess<GetTimeResult>) httpResult;
         GetTimeResult result = resultData.data;
 
         PlayFabResult<GetTimeResult> pfResult = new PlayFabResult<GetTimeResult>();
@@ -3503,7 +3447,7 @@ public class PlayFabServerAPI {
     public static FutureTask<PlayFabResult<GetTitleDataResult>> GetTitleDataAsync(final GetTitleDataRequest request) {
         return new FutureTask(new Callable<PlayFabResult<GetTitleDataResult>>() {
             public PlayFabResult<GetTitleDataResult> call() throws Exception {
-                return privateGetTitleDataAsync(request);
+                return privateGetTitleDataAsync(null, request);
             }
         });
     }
@@ -3517,7 +3461,7 @@ public class PlayFabServerAPI {
     public static PlayFabResult<GetTitleDataResult> GetTitleData(final GetTitleDataRequest request) {
         FutureTask<PlayFabResult<GetTitleDataResult>> task = new FutureTask(new Callable<PlayFabResult<GetTitleDataResult>>() {
             public PlayFabResult<GetTitleDataResult> call() throws Exception {
-                return privateGetTitleDataAsync(request);
+                return privateGetTitleDataAsync(null, request);
             }
         });
         try {
@@ -3532,10 +3476,11 @@ public class PlayFabServerAPI {
 
     /** Retrieves the key-value store of custom title settings */
     @SuppressWarnings("unchecked")
-    private static PlayFabResult<GetTitleDataResult> privateGetTitleDataAsync(final GetTitleDataRequest request) throws Exception {
-        if (PlayFabSettings.DeveloperSecretKey == null) throw new Exception ("Must have PlayFabSettings.DeveloperSecretKey set to call this method");
+    static PlayFabResult<GetTitleDataResult> privateGetTitleDataAsync(final PlayFabInstanceAPI instance, final GetTitleDataRequest request) throws Exception {
+        final PlayFabApiContext context = PlayFabInstanceAPI.contextOf(instance);
+        if (context.getDeveloperSecretKey() == null) throw new Exception ("Must have PlayFabSettings.DeveloperSecretKey set to call this method");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Server/GetTitleData"), request, "X-SecretKey", PlayFabSettings.DeveloperSecretKey);
+        FutureTask<Object> task = PlayFabHTTP.doPost(context.getURL("/Server/GetTitleData"), request, "X-SecretKey", context.getDeveloperSecretKey(), GetTitleDataResult.class);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -3546,9 +3491,7 @@ public class PlayFabServerAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
-
-        PlayFabJsonSuccess<GetTitleDataResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<GetTitleDataResult>>(){}.getType());
+        PlayFabJsonSuccess<GetTitleDataResult> resultData = (PlayFabJsonSuccess<GetTitleDataResult>) httpResult;
         GetTitleDataResult result = resultData.data;
 
         PlayFabResult<GetTitleDataResult> pfResult = new PlayFabResult<GetTitleDataResult>();
@@ -3565,7 +3508,7 @@ public class PlayFabServerAPI {
     public static FutureTask<PlayFabResult<GetTitleDataResult>> GetTitleInternalDataAsync(final GetTitleDataRequest request) {
         return new FutureTask(new Callable<PlayFabResult<GetTitleDataResult>>() {
             public PlayFabResult<GetTitleDataResult> call() throws Exception {
-                return privateGetTitleInternalDataAsync(request);
+                return privateGetTitleInternalDataAsync(null, request);
             }
         });
     }
@@ -3579,7 +3522,7 @@ public class PlayFabServerAPI {
     public static PlayFabResult<GetTitleDataResult> GetTitleInternalData(final GetTitleDataRequest request) {
         FutureTask<PlayFabResult<GetTitleDataResult>> task = new FutureTask(new Callable<PlayFabResult<GetTitleDataResult>>() {
             public PlayFabResult<GetTitleDataResult> call() throws Exception {
-                return privateGetTitleInternalDataAsync(request);
+                return privateGetTitleInternalDataAsync(null, request);
             }
         });
         try {
@@ -3594,10 +3537,11 @@ public class PlayFabServerAPI {
 
     /** Retrieves the key-value store of custom internal title settings */
     @SuppressWarnings("unchecked")
-    private static PlayFabResult<GetTitleDataResult> privateGetTitleInternalDataAsync(final GetTitleDataRequest request) throws Exception {
-        if (PlayFabSettings.DeveloperSecretKey == null) throw new Exception ("Must have PlayFabSettings.DeveloperSecretKey set to call this method");
+    static PlayFabResult<GetTitleDataResult> privateGetTitleInternalDataAsync(final PlayFabInstanceAPI instance, final GetTitleDataRequest request) throws Exception {
+        final PlayFabApiContext context = PlayFabInstanceAPI.contextOf(instance);
+        if (context.getDeveloperSecretKey() == null) throw new Exception ("Must have PlayFabSettings.DeveloperSecretKey set to call this method");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Server/GetTitleInternalData"), request, "X-SecretKey", PlayFabSettings.DeveloperSecretKey);
+        FutureTask<Object> task = PlayFabHTTP.doPost(context.getURL("/Server/GetTitleInternalData"), request, "X-SecretKey", context.getDeveloperSecretKey(), GetTitleDataResult.class);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -3608,9 +3552,7 @@ public class PlayFabServerAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
-
-        PlayFabJsonSuccess<GetTitleDataResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<GetTitleDataResult>>(){}.getType());
+        PlayFabJsonSuccess<GetTitleDataResult> resultData = (PlayFabJsonSuccess<GetTitleDataResult>) httpResult;
         GetTitleDataResult result = resultData.data;
 
         PlayFabResult<GetTitleDataResult> pfResult = new PlayFabResult<GetTitleDataResult>();
@@ -3627,7 +3569,7 @@ public class PlayFabServerAPI {
     public static FutureTask<PlayFabResult<GetTitleNewsResult>> GetTitleNewsAsync(final GetTitleNewsRequest request) {
         return new FutureTask(new Callable<PlayFabResult<GetTitleNewsResult>>() {
             public PlayFabResult<GetTitleNewsResult> call() throws Exception {
-                return privateGetTitleNewsAsync(request);
+                return privateGetTitleNewsAsync(null, request);
             }
         });
     }
@@ -3641,7 +3583,7 @@ public class PlayFabServerAPI {
     public static PlayFabResult<GetTitleNewsResult> GetTitleNews(final GetTitleNewsRequest request) {
         FutureTask<PlayFabResult<GetTitleNewsResult>> task = new FutureTask(new Callable<PlayFabResult<GetTitleNewsResult>>() {
             public PlayFabResult<GetTitleNewsResult> call() throws Exception {
-                return privateGetTitleNewsAsync(request);
+                return privateGetTitleNewsAsync(null, request);
             }
         });
         try {
@@ -3656,10 +3598,11 @@ public class PlayFabServerAPI {
 
     /** Retrieves the title news feed, as configured in the developer portal */
     @SuppressWarnings("unchecked")
-    private static PlayFabResult<GetTitleNewsResult> privateGetTitleNewsAsync(final GetTitleNewsRequest request) throws Exception {
-        if (PlayFabSettings.DeveloperSecretKey == null) throw new Exception ("Must have PlayFabSettings.DeveloperSecretKey set to call this method");
+    static PlayFabResult<GetTitleNewsResult> privateGetTitleNewsAsync(final PlayFabInstanceAPI instance, final GetTitleNewsRequest request) throws Exception {
+        final PlayFabApiContext context = PlayFabInstanceAPI.contextOf(instance);
+        if (context.getDeveloperSecretKey() == null) throw new Exception ("Must have PlayFabSettings.DeveloperSecretKey set to call this method");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Server/GetTitleNews"), request, "X-SecretKey", PlayFabSettings.DeveloperSecretKey);
+        FutureTask<Object> task = PlayFabHTTP.doPost(context.getURL("/Server/GetTitleNews"), request, "X-SecretKey", context.getDeveloperSecretKey(), GetTitleNewsResult.class);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -3670,9 +3613,7 @@ public class PlayFabServerAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
-
-        PlayFabJsonSuccess<GetTitleNewsResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<GetTitleNewsResult>>(){}.getType());
+        PlayFabJsonSuccess<GetTitleNewsResult> resultData = (PlayFabJsonSuccess<GetTitleNewsResult>) httpResult;
         GetTitleNewsResult result = resultData.data;
 
         PlayFabResult<GetTitleNewsResult> pfResult = new PlayFabResult<GetTitleNewsResult>();
@@ -3689,7 +3630,7 @@ public class PlayFabServerAPI {
     public static FutureTask<PlayFabResult<GetUserAccountInfoResult>> GetUserAccountInfoAsync(final GetUserAccountInfoRequest request) {
         return new FutureTask(new Callable<PlayFabResult<GetUserAccountInfoResult>>() {
             public PlayFabResult<GetUserAccountInfoResult> call() throws Exception {
-                return privateGetUserAccountInfoAsync(request);
+                return privateGetUserAccountInfoAsync(null, request);
             }
         });
     }
@@ -3703,7 +3644,7 @@ public class PlayFabServerAPI {
     public static PlayFabResult<GetUserAccountInfoResult> GetUserAccountInfo(final GetUserAccountInfoRequest request) {
         FutureTask<PlayFabResult<GetUserAccountInfoResult>> task = new FutureTask(new Callable<PlayFabResult<GetUserAccountInfoResult>>() {
             public PlayFabResult<GetUserAccountInfoResult> call() throws Exception {
-                return privateGetUserAccountInfoAsync(request);
+                return privateGetUserAccountInfoAsync(null, request);
             }
         });
         try {
@@ -3718,10 +3659,11 @@ public class PlayFabServerAPI {
 
     /** Retrieves the relevant details for a specified user */
     @SuppressWarnings("unchecked")
-    private static PlayFabResult<GetUserAccountInfoResult> privateGetUserAccountInfoAsync(final GetUserAccountInfoRequest request) throws Exception {
-        if (PlayFabSettings.DeveloperSecretKey == null) throw new Exception ("Must have PlayFabSettings.DeveloperSecretKey set to call this method");
+    static PlayFabResult<GetUserAccountInfoResult> privateGetUserAccountInfoAsync(final PlayFabInstanceAPI instance, final GetUserAccountInfoRequest request) throws Exception {
+        final PlayFabApiContext context = PlayFabInstanceAPI.contextOf(instance);
+        if (context.getDeveloperSecretKey() == null) throw new Exception ("Must have PlayFabSettings.DeveloperSecretKey set to call this method");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Server/GetUserAccountInfo"), request, "X-SecretKey", PlayFabSettings.DeveloperSecretKey);
+        FutureTask<Object> task = PlayFabHTTP.doPost(context.getURL("/Server/GetUserAccountInfo"), request, "X-SecretKey", context.getDeveloperSecretKey(), GetUserAccountInfoResult.class);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -3732,9 +3674,7 @@ public class PlayFabServerAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
-
-        PlayFabJsonSuccess<GetUserAccountInfoResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<GetUserAccountInfoResult>>(){}.getType());
+        PlayFabJsonSuccess<GetUserAccountInfoResult> resultData = (PlayFabJsonSuccess<GetUserAccountInfoResult>) httpResult;
         GetUserAccountInfoResult result = resultData.data;
 
         PlayFabResult<GetUserAccountInfoResult> pfResult = new PlayFabResult<GetUserAccountInfoResult>();
@@ -3751,7 +3691,7 @@ public class PlayFabServerAPI {
     public static FutureTask<PlayFabResult<GetUserBansResult>> GetUserBansAsync(final GetUserBansRequest request) {
         return new FutureTask(new Callable<PlayFabResult<GetUserBansResult>>() {
             public PlayFabResult<GetUserBansResult> call() throws Exception {
-                return privateGetUserBansAsync(request);
+                return privateGetUserBansAsync(null, request);
             }
         });
     }
@@ -3765,7 +3705,7 @@ public class PlayFabServerAPI {
     public static PlayFabResult<GetUserBansResult> GetUserBans(final GetUserBansRequest request) {
         FutureTask<PlayFabResult<GetUserBansResult>> task = new FutureTask(new Callable<PlayFabResult<GetUserBansResult>>() {
             public PlayFabResult<GetUserBansResult> call() throws Exception {
-                return privateGetUserBansAsync(request);
+                return privateGetUserBansAsync(null, request);
             }
         });
         try {
@@ -3780,10 +3720,11 @@ public class PlayFabServerAPI {
 
     /** Gets all bans for a user. */
     @SuppressWarnings("unchecked")
-    private static PlayFabResult<GetUserBansResult> privateGetUserBansAsync(final GetUserBansRequest request) throws Exception {
-        if (PlayFabSettings.DeveloperSecretKey == null) throw new Exception ("Must have PlayFabSettings.DeveloperSecretKey set to call this method");
+    static PlayFabResult<GetUserBansResult> privateGetUserBansAsync(final PlayFabInstanceAPI instance, final GetUserBansRequest request) throws Exception {
+        final PlayFabApiContext context = PlayFabInstanceAPI.contextOf(instance);
+        if (context.getDeveloperSecretKey() == null) throw new Exception ("Must have PlayFabSettings.DeveloperSecretKey set to call this method");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Server/GetUserBans"), request, "X-SecretKey", PlayFabSettings.DeveloperSecretKey);
+        FutureTask<Object> task = PlayFabHTTP.doPost(context.getURL("/Server/GetUserBans"), request, "X-SecretKey", context.getDeveloperSecretKey(), GetUserBansResult.class);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -3794,9 +3735,7 @@ public class PlayFabServerAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
-
-        PlayFabJsonSuccess<GetUserBansResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<GetUserBansResult>>(){}.getType());
+        PlayFabJsonSuccess<GetUserBansResult> resultData = (PlayFabJsonSuccess<GetUserBansResult>) httpResult;
         GetUserBansResult result = resultData.data;
 
         PlayFabResult<GetUserBansResult> pfResult = new PlayFabResult<GetUserBansResult>();
@@ -3813,7 +3752,7 @@ public class PlayFabServerAPI {
     public static FutureTask<PlayFabResult<GetUserDataResult>> GetUserDataAsync(final GetUserDataRequest request) {
         return new FutureTask(new Callable<PlayFabResult<GetUserDataResult>>() {
             public PlayFabResult<GetUserDataResult> call() throws Exception {
-                return privateGetUserDataAsync(request);
+                return privateGetUserDataAsync(null, request);
             }
         });
     }
@@ -3827,7 +3766,7 @@ public class PlayFabServerAPI {
     public static PlayFabResult<GetUserDataResult> GetUserData(final GetUserDataRequest request) {
         FutureTask<PlayFabResult<GetUserDataResult>> task = new FutureTask(new Callable<PlayFabResult<GetUserDataResult>>() {
             public PlayFabResult<GetUserDataResult> call() throws Exception {
-                return privateGetUserDataAsync(request);
+                return privateGetUserDataAsync(null, request);
             }
         });
         try {
@@ -3842,10 +3781,11 @@ public class PlayFabServerAPI {
 
     /** Retrieves the title-specific custom data for the user which is readable and writable by the client */
     @SuppressWarnings("unchecked")
-    private static PlayFabResult<GetUserDataResult> privateGetUserDataAsync(final GetUserDataRequest request) throws Exception {
-        if (PlayFabSettings.DeveloperSecretKey == null) throw new Exception ("Must have PlayFabSettings.DeveloperSecretKey set to call this method");
+    static PlayFabResult<GetUserDataResult> privateGetUserDataAsync(final PlayFabInstanceAPI instance, final GetUserDataRequest request) throws Exception {
+        final PlayFabApiContext context = PlayFabInstanceAPI.contextOf(instance);
+        if (context.getDeveloperSecretKey() == null) throw new Exception ("Must have PlayFabSettings.DeveloperSecretKey set to call this method");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Server/GetUserData"), request, "X-SecretKey", PlayFabSettings.DeveloperSecretKey);
+        FutureTask<Object> task = PlayFabHTTP.doPost(context.getURL("/Server/GetUserData"), request, "X-SecretKey", context.getDeveloperSecretKey(), GetUserDataResult.class);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -3856,9 +3796,7 @@ public class PlayFabServerAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
-
-        PlayFabJsonSuccess<GetUserDataResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<GetUserDataResult>>(){}.getType());
+        PlayFabJsonSuccess<GetUserDataResult> resultData = (PlayFabJsonSuccess<GetUserDataResult>) httpResult;
         GetUserDataResult result = resultData.data;
 
         PlayFabResult<GetUserDataResult> pfResult = new PlayFabResult<GetUserDataResult>();
@@ -3875,7 +3813,7 @@ public class PlayFabServerAPI {
     public static FutureTask<PlayFabResult<GetUserDataResult>> GetUserInternalDataAsync(final GetUserDataRequest request) {
         return new FutureTask(new Callable<PlayFabResult<GetUserDataResult>>() {
             public PlayFabResult<GetUserDataResult> call() throws Exception {
-                return privateGetUserInternalDataAsync(request);
+                return privateGetUserInternalDataAsync(null, request);
             }
         });
     }
@@ -3889,7 +3827,7 @@ public class PlayFabServerAPI {
     public static PlayFabResult<GetUserDataResult> GetUserInternalData(final GetUserDataRequest request) {
         FutureTask<PlayFabResult<GetUserDataResult>> task = new FutureTask(new Callable<PlayFabResult<GetUserDataResult>>() {
             public PlayFabResult<GetUserDataResult> call() throws Exception {
-                return privateGetUserInternalDataAsync(request);
+                return privateGetUserInternalDataAsync(null, request);
             }
         });
         try {
@@ -3904,10 +3842,11 @@ public class PlayFabServerAPI {
 
     /** Retrieves the title-specific custom data for the user which cannot be accessed by the client */
     @SuppressWarnings("unchecked")
-    private static PlayFabResult<GetUserDataResult> privateGetUserInternalDataAsync(final GetUserDataRequest request) throws Exception {
-        if (PlayFabSettings.DeveloperSecretKey == null) throw new Exception ("Must have PlayFabSettings.DeveloperSecretKey set to call this method");
+    static PlayFabResult<GetUserDataResult> privateGetUserInternalDataAsync(final PlayFabInstanceAPI instance, final GetUserDataRequest request) throws Exception {
+        final PlayFabApiContext context = PlayFabInstanceAPI.contextOf(instance);
+        if (context.getDeveloperSecretKey() == null) throw new Exception ("Must have PlayFabSettings.DeveloperSecretKey set to call this method");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Server/GetUserInternalData"), request, "X-SecretKey", PlayFabSettings.DeveloperSecretKey);
+        FutureTask<Object> task = PlayFabHTTP.doPost(context.getURL("/Server/GetUserInternalData"), request, "X-SecretKey", context.getDeveloperSecretKey(), GetUserDataResult.class);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -3918,9 +3857,7 @@ public class PlayFabServerAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
-
-        PlayFabJsonSuccess<GetUserDataResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<GetUserDataResult>>(){}.getType());
+        PlayFabJsonSuccess<GetUserDataResult> resultData = (PlayFabJsonSuccess<GetUserDataResult>) httpResult;
         GetUserDataResult result = resultData.data;
 
         PlayFabResult<GetUserDataResult> pfResult = new PlayFabResult<GetUserDataResult>();
@@ -3937,7 +3874,7 @@ public class PlayFabServerAPI {
     public static FutureTask<PlayFabResult<GetUserInventoryResult>> GetUserInventoryAsync(final GetUserInventoryRequest request) {
         return new FutureTask(new Callable<PlayFabResult<GetUserInventoryResult>>() {
             public PlayFabResult<GetUserInventoryResult> call() throws Exception {
-                return privateGetUserInventoryAsync(request);
+                return privateGetUserInventoryAsync(null, request);
             }
         });
     }
@@ -3951,7 +3888,7 @@ public class PlayFabServerAPI {
     public static PlayFabResult<GetUserInventoryResult> GetUserInventory(final GetUserInventoryRequest request) {
         FutureTask<PlayFabResult<GetUserInventoryResult>> task = new FutureTask(new Callable<PlayFabResult<GetUserInventoryResult>>() {
             public PlayFabResult<GetUserInventoryResult> call() throws Exception {
-                return privateGetUserInventoryAsync(request);
+                return privateGetUserInventoryAsync(null, request);
             }
         });
         try {
@@ -3966,10 +3903,11 @@ public class PlayFabServerAPI {
 
     /** Retrieves the specified user's current inventory of virtual goods */
     @SuppressWarnings("unchecked")
-    private static PlayFabResult<GetUserInventoryResult> privateGetUserInventoryAsync(final GetUserInventoryRequest request) throws Exception {
-        if (PlayFabSettings.DeveloperSecretKey == null) throw new Exception ("Must have PlayFabSettings.DeveloperSecretKey set to call this method");
+    static PlayFabResult<GetUserInventoryResult> privateGetUserInventoryAsync(final PlayFabInstanceAPI instance, final GetUserInventoryRequest request) throws Exception {
+        final PlayFabApiContext context = PlayFabInstanceAPI.contextOf(instance);
+        if (context.getDeveloperSecretKey() == null) throw new Exception ("Must have PlayFabSettings.DeveloperSecretKey set to call this method");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Server/GetUserInventory"), request, "X-SecretKey", PlayFabSettings.DeveloperSecretKey);
+        FutureTask<Object> task = PlayFabHTTP.doPost(context.getURL("/Server/GetUserInventory"), request, "X-SecretKey", context.getDeveloperSecretKey(), GetUserInventoryResult.class);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -3980,9 +3918,7 @@ public class PlayFabServerAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
-
-        PlayFabJsonSuccess<GetUserInventoryResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<GetUserInventoryResult>>(){}.getType());
+        PlayFabJsonSuccess<GetUserInventoryResult> resultData = (PlayFabJsonSuccess<GetUserInventoryResult>) httpResult;
         GetUserInventoryResult result = resultData.data;
 
         PlayFabResult<GetUserInventoryResult> pfResult = new PlayFabResult<GetUserInventoryResult>();
@@ -3999,7 +3935,7 @@ public class PlayFabServerAPI {
     public static FutureTask<PlayFabResult<GetUserDataResult>> GetUserPublisherDataAsync(final GetUserDataRequest request) {
         return new FutureTask(new Callable<PlayFabResult<GetUserDataResult>>() {
             public PlayFabResult<GetUserDataResult> call() throws Exception {
-                return privateGetUserPublisherDataAsync(request);
+                return privateGetUserPublisherDataAsync(null, request);
             }
         });
     }
@@ -4013,7 +3949,7 @@ public class PlayFabServerAPI {
     public static PlayFabResult<GetUserDataResult> GetUserPublisherData(final GetUserDataRequest request) {
         FutureTask<PlayFabResult<GetUserDataResult>> task = new FutureTask(new Callable<PlayFabResult<GetUserDataResult>>() {
             public PlayFabResult<GetUserDataResult> call() throws Exception {
-                return privateGetUserPublisherDataAsync(request);
+                return privateGetUserPublisherDataAsync(null, request);
             }
         });
         try {
@@ -4028,10 +3964,11 @@ public class PlayFabServerAPI {
 
     /** Retrieves the publisher-specific custom data for the user which is readable and writable by the client */
     @SuppressWarnings("unchecked")
-    private static PlayFabResult<GetUserDataResult> privateGetUserPublisherDataAsync(final GetUserDataRequest request) throws Exception {
-        if (PlayFabSettings.DeveloperSecretKey == null) throw new Exception ("Must have PlayFabSettings.DeveloperSecretKey set to call this method");
+    static PlayFabResult<GetUserDataResult> privateGetUserPublisherDataAsync(final PlayFabInstanceAPI instance, final GetUserDataRequest request) throws Exception {
+        final PlayFabApiContext context = PlayFabInstanceAPI.contextOf(instance);
+        if (context.getDeveloperSecretKey() == null) throw new Exception ("Must have PlayFabSettings.DeveloperSecretKey set to call this method");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Server/GetUserPublisherData"), request, "X-SecretKey", PlayFabSettings.DeveloperSecretKey);
+        FutureTask<Object> task = PlayFabHTTP.doPost(context.getURL("/Server/GetUserPublisherData"), request, "X-SecretKey", context.getDeveloperSecretKey(), GetUserDataResult.class);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -4042,9 +3979,7 @@ public class PlayFabServerAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
-
-        PlayFabJsonSuccess<GetUserDataResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<GetUserDataResult>>(){}.getType());
+        PlayFabJsonSuccess<GetUserDataResult> resultData = (PlayFabJsonSuccess<GetUserDataResult>) httpResult;
         GetUserDataResult result = resultData.data;
 
         PlayFabResult<GetUserDataResult> pfResult = new PlayFabResult<GetUserDataResult>();
@@ -4061,7 +3996,7 @@ public class PlayFabServerAPI {
     public static FutureTask<PlayFabResult<GetUserDataResult>> GetUserPublisherInternalDataAsync(final GetUserDataRequest request) {
         return new FutureTask(new Callable<PlayFabResult<GetUserDataResult>>() {
             public PlayFabResult<GetUserDataResult> call() throws Exception {
-                return privateGetUserPublisherInternalDataAsync(request);
+                return privateGetUserPublisherInternalDataAsync(null, request);
             }
         });
     }
@@ -4075,7 +4010,7 @@ public class PlayFabServerAPI {
     public static PlayFabResult<GetUserDataResult> GetUserPublisherInternalData(final GetUserDataRequest request) {
         FutureTask<PlayFabResult<GetUserDataResult>> task = new FutureTask(new Callable<PlayFabResult<GetUserDataResult>>() {
             public PlayFabResult<GetUserDataResult> call() throws Exception {
-                return privateGetUserPublisherInternalDataAsync(request);
+                return privateGetUserPublisherInternalDataAsync(null, request);
             }
         });
         try {
@@ -4090,10 +4025,11 @@ public class PlayFabServerAPI {
 
     /** Retrieves the publisher-specific custom data for the user which cannot be accessed by the client */
     @SuppressWarnings("unchecked")
-    private static PlayFabResult<GetUserDataResult> privateGetUserPublisherInternalDataAsync(final GetUserDataRequest request) throws Exception {
-        if (PlayFabSettings.DeveloperSecretKey == null) throw new Exception ("Must have PlayFabSettings.DeveloperSecretKey set to call this method");
+    static PlayFabResult<GetUserDataResult> privateGetUserPublisherInternalDataAsync(final PlayFabInstanceAPI instance, final GetUserDataRequest request) throws Exception {
+        final PlayFabApiContext context = PlayFabInstanceAPI.contextOf(instance);
+        if (context.getDeveloperSecretKey() == null) throw new Exception ("Must have PlayFabSettings.DeveloperSecretKey set to call this method");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Server/GetUserPublisherInternalData"), request, "X-SecretKey", PlayFabSettings.DeveloperSecretKey);
+        FutureTask<Object> task = PlayFabHTTP.doPost(context.getURL("/Server/GetUserPublisherInternalData"), request, "X-SecretKey", context.getDeveloperSecretKey(), GetUserDataResult.class);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -4104,9 +4040,7 @@ public class PlayFabServerAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
-
-        PlayFabJsonSuccess<GetUserDataResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<GetUserDataResult>>(){}.getType());
+        PlayFabJsonSuccess<GetUserDataResult> resultData = (PlayFabJsonSuccess<GetUserDataResult>) httpResult;
         GetUserDataResult result = resultData.data;
 
         PlayFabResult<GetUserDataResult> pfResult = new PlayFabResult<GetUserDataResult>();
@@ -4123,7 +4057,7 @@ public class PlayFabServerAPI {
     public static FutureTask<PlayFabResult<GetUserDataResult>> GetUserPublisherReadOnlyDataAsync(final GetUserDataRequest request) {
         return new FutureTask(new Callable<PlayFabResult<GetUserDataResult>>() {
             public PlayFabResult<GetUserDataResult> call() throws Exception {
-                return privateGetUserPublisherReadOnlyDataAsync(request);
+                return privateGetUserPublisherReadOnlyDataAsync(null, request);
             }
         });
     }
@@ -4137,7 +4071,7 @@ public class PlayFabServerAPI {
     public static PlayFabResult<GetUserDataResult> GetUserPublisherReadOnlyData(final GetUserDataRequest request) {
         FutureTask<PlayFabResult<GetUserDataResult>> task = new FutureTask(new Callable<PlayFabResult<GetUserDataResult>>() {
             public PlayFabResult<GetUserDataResult> call() throws Exception {
-                return privateGetUserPublisherReadOnlyDataAsync(request);
+                return privateGetUserPublisherReadOnlyDataAsync(null, request);
             }
         });
         try {
@@ -4152,10 +4086,11 @@ public class PlayFabServerAPI {
 
     /** Retrieves the publisher-specific custom data for the user which can only be read by the client */
     @SuppressWarnings("unchecked")
-    private static PlayFabResult<GetUserDataResult> privateGetUserPublisherReadOnlyDataAsync(final GetUserDataRequest request) throws Exception {
-        if (PlayFabSettings.DeveloperSecretKey == null) throw new Exception ("Must have PlayFabSettings.DeveloperSecretKey set to call this method");
+    static PlayFabResult<GetUserDataResult> privateGetUserPublisherReadOnlyDataAsync(final PlayFabInstanceAPI instance, final GetUserDataRequest request) throws Exception {
+        final PlayFabApiContext context = PlayFabInstanceAPI.contextOf(instance);
+        if (context.getDeveloperSecretKey() == null) throw new Exception ("Must have PlayFabSettings.DeveloperSecretKey set to call this method");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Server/GetUserPublisherReadOnlyData"), request, "X-SecretKey", PlayFabSettings.DeveloperSecretKey);
+        FutureTask<Object> task = PlayFabHTTP.doPost(context.getURL("/Server/GetUserPublisherReadOnlyData"), request, "X-SecretKey", context.getDeveloperSecretKey(), GetUserDataResult.class);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -4166,9 +4101,7 @@ public class PlayFabServerAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
-
-        PlayFabJsonSuccess<GetUserDataResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<GetUserDataResult>>(){}.getType());
+        PlayFabJsonSuccess<GetUserDataResult> resultData = (PlayFabJsonSuccess<GetUserDataResult>) httpResult;
         GetUserDataResult result = resultData.data;
 
         PlayFabResult<GetUserDataResult> pfResult = new PlayFabResult<GetUserDataResult>();
@@ -4185,7 +4118,7 @@ public class PlayFabServerAPI {
     public static FutureTask<PlayFabResult<GetUserDataResult>> GetUserReadOnlyDataAsync(final GetUserDataRequest request) {
         return new FutureTask(new Callable<PlayFabResult<GetUserDataResult>>() {
             public PlayFabResult<GetUserDataResult> call() throws Exception {
-                return privateGetUserReadOnlyDataAsync(request);
+                return privateGetUserReadOnlyDataAsync(null, request);
             }
         });
     }
@@ -4199,7 +4132,7 @@ public class PlayFabServerAPI {
     public static PlayFabResult<GetUserDataResult> GetUserReadOnlyData(final GetUserDataRequest request) {
         FutureTask<PlayFabResult<GetUserDataResult>> task = new FutureTask(new Callable<PlayFabResult<GetUserDataResult>>() {
             public PlayFabResult<GetUserDataResult> call() throws Exception {
-                return privateGetUserReadOnlyDataAsync(request);
+                return privateGetUserReadOnlyDataAsync(null, request);
             }
         });
         try {
@@ -4214,10 +4147,11 @@ public class PlayFabServerAPI {
 
     /** Retrieves the title-specific custom data for the user which can only be read by the client */
     @SuppressWarnings("unchecked")
-    private static PlayFabResult<GetUserDataResult> privateGetUserReadOnlyDataAsync(final GetUserDataRequest request) throws Exception {
-        if (PlayFabSettings.DeveloperSecretKey == null) throw new Exception ("Must have PlayFabSettings.DeveloperSecretKey set to call this method");
+    static PlayFabResult<GetUserDataResult> privateGetUserReadOnlyDataAsync(final PlayFabInstanceAPI instance, final GetUserDataRequest request) throws Exception {
+        final PlayFabApiContext context = PlayFabInstanceAPI.contextOf(instance);
+        if (context.getDeveloperSecretKey() == null) throw new Exception ("Must have PlayFabSettings.DeveloperSecretKey set to call this method");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Server/GetUserReadOnlyData"), request, "X-SecretKey", PlayFabSettings.DeveloperSecretKey);
+        FutureTask<Object> task = PlayFabHTTP.doPost(context.getURL("/Server/GetUserReadOnlyData"), request, "X-SecretKey", context.getDeveloperSecretKey(), GetUserDataResult.class);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -4228,9 +4162,7 @@ public class PlayFabServerAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
-
-        PlayFabJsonSuccess<GetUserDataResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<GetUserDataResult>>(){}.getType());
+        PlayFabJsonSuccess<GetUserDataResult> resultData = (PlayFabJsonSuccess<GetUserDataResult>) httpResult;
         GetUserDataResult result = resultData.data;
 
         PlayFabResult<GetUserDataResult> pfResult = new PlayFabResult<GetUserDataResult>();
@@ -4248,7 +4180,7 @@ public class PlayFabServerAPI {
     public static FutureTask<PlayFabResult<GrantCharacterToUserResult>> GrantCharacterToUserAsync(final GrantCharacterToUserRequest request) {
         return new FutureTask(new Callable<PlayFabResult<GrantCharacterToUserResult>>() {
             public PlayFabResult<GrantCharacterToUserResult> call() throws Exception {
-                return privateGrantCharacterToUserAsync(request);
+                return privateGrantCharacterToUserAsync(null, request);
             }
         });
     }
@@ -4263,7 +4195,7 @@ public class PlayFabServerAPI {
     public static PlayFabResult<GrantCharacterToUserResult> GrantCharacterToUser(final GrantCharacterToUserRequest request) {
         FutureTask<PlayFabResult<GrantCharacterToUserResult>> task = new FutureTask(new Callable<PlayFabResult<GrantCharacterToUserResult>>() {
             public PlayFabResult<GrantCharacterToUserResult> call() throws Exception {
-                return privateGrantCharacterToUserAsync(request);
+                return privateGrantCharacterToUserAsync(null, request);
             }
         });
         try {
@@ -4281,10 +4213,11 @@ public class PlayFabServerAPI {
      * with the parent PlayFabId to guarantee uniqueness.
      */
     @SuppressWarnings("unchecked")
-    private static PlayFabResult<GrantCharacterToUserResult> privateGrantCharacterToUserAsync(final GrantCharacterToUserRequest request) throws Exception {
-        if (PlayFabSettings.DeveloperSecretKey == null) throw new Exception ("Must have PlayFabSettings.DeveloperSecretKey set to call this method");
+    static PlayFabResult<GrantCharacterToUserResult> privateGrantCharacterToUserAsync(final PlayFabInstanceAPI instance, final GrantCharacterToUserRequest request) throws Exception {
+        final PlayFabApiContext context = PlayFabInstanceAPI.contextOf(instance);
+        if (context.getDeveloperSecretKey() == null) throw new Exception ("Must have PlayFabSettings.DeveloperSecretKey set to call this method");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Server/GrantCharacterToUser"), request, "X-SecretKey", PlayFabSettings.DeveloperSecretKey);
+        FutureTask<Object> task = PlayFabHTTP.doPost(context.getURL("/Server/GrantCharacterToUser"), request, "X-SecretKey", context.getDeveloperSecretKey(), GrantCharacterToUserResult.class);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -4295,9 +4228,7 @@ public class PlayFabServerAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
-
-        PlayFabJsonSuccess<GrantCharacterToUserResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<GrantCharacterToUserResult>>(){}.getType());
+        PlayFabJsonSuccess<GrantCharacterToUserResult> resultData = (PlayFabJsonSuccess<GrantCharacterToUserResult>) httpResult;
         GrantCharacterToUserResult result = resultData.data;
 
         PlayFabResult<GrantCharacterToUserResult> pfResult = new PlayFabResult<GrantCharacterToUserResult>();
@@ -4314,7 +4245,7 @@ public class PlayFabServerAPI {
     public static FutureTask<PlayFabResult<GrantItemsToCharacterResult>> GrantItemsToCharacterAsync(final GrantItemsToCharacterRequest request) {
         return new FutureTask(new Callable<PlayFabResult<GrantItemsToCharacterResult>>() {
             public PlayFabResult<GrantItemsToCharacterResult> call() throws Exception {
-                return privateGrantItemsToCharacterAsync(request);
+                return privateGrantItemsToCharacterAsync(null, request);
             }
         });
     }
@@ -4328,7 +4259,7 @@ public class PlayFabServerAPI {
     public static PlayFabResult<GrantItemsToCharacterResult> GrantItemsToCharacter(final GrantItemsToCharacterRequest request) {
         FutureTask<PlayFabResult<GrantItemsToCharacterResult>> task = new FutureTask(new Callable<PlayFabResult<GrantItemsToCharacterResult>>() {
             public PlayFabResult<GrantItemsToCharacterResult> call() throws Exception {
-                return privateGrantItemsToCharacterAsync(request);
+                return privateGrantItemsToCharacterAsync(null, request);
             }
         });
         try {
@@ -4343,10 +4274,11 @@ public class PlayFabServerAPI {
 
     /** Adds the specified items to the specified character's inventory */
     @SuppressWarnings("unchecked")
-    private static PlayFabResult<GrantItemsToCharacterResult> privateGrantItemsToCharacterAsync(final GrantItemsToCharacterRequest request) throws Exception {
-        if (PlayFabSettings.DeveloperSecretKey == null) throw new Exception ("Must have PlayFabSettings.DeveloperSecretKey set to call this method");
+    static PlayFabResult<GrantItemsToCharacterResult> privateGrantItemsToCharacterAsync(final PlayFabInstanceAPI instance, final GrantItemsToCharacterRequest request) throws Exception {
+        final PlayFabApiContext context = PlayFabInstanceAPI.contextOf(instance);
+        if (context.getDeveloperSecretKey() == null) throw new Exception ("Must have PlayFabSettings.DeveloperSecretKey set to call this method");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Server/GrantItemsToCharacter"), request, "X-SecretKey", PlayFabSettings.DeveloperSecretKey);
+        FutureTask<Object> task = PlayFabHTTP.doPost(context.getURL("/Server/GrantItemsToCharacter"), request, "X-SecretKey", context.getDeveloperSecretKey(), GrantItemsToCharacterResult.class);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -4357,9 +4289,7 @@ public class PlayFabServerAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
-
-        PlayFabJsonSuccess<GrantItemsToCharacterResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<GrantItemsToCharacterResult>>(){}.getType());
+        PlayFabJsonSuccess<GrantItemsToCharacterResult> resultData = (PlayFabJsonSuccess<GrantItemsToCharacterResult>) httpResult;
         GrantItemsToCharacterResult result = resultData.data;
 
         PlayFabResult<GrantItemsToCharacterResult> pfResult = new PlayFabResult<GrantItemsToCharacterResult>();
@@ -4376,7 +4306,7 @@ public class PlayFabServerAPI {
     public static FutureTask<PlayFabResult<GrantItemsToUserResult>> GrantItemsToUserAsync(final GrantItemsToUserRequest request) {
         return new FutureTask(new Callable<PlayFabResult<GrantItemsToUserResult>>() {
             public PlayFabResult<GrantItemsToUserResult> call() throws Exception {
-                return privateGrantItemsToUserAsync(request);
+                return privateGrantItemsToUserAsync(null, request);
             }
         });
     }
@@ -4390,7 +4320,7 @@ public class PlayFabServerAPI {
     public static PlayFabResult<GrantItemsToUserResult> GrantItemsToUser(final GrantItemsToUserRequest request) {
         FutureTask<PlayFabResult<GrantItemsToUserResult>> task = new FutureTask(new Callable<PlayFabResult<GrantItemsToUserResult>>() {
             public PlayFabResult<GrantItemsToUserResult> call() throws Exception {
-                return privateGrantItemsToUserAsync(request);
+                return privateGrantItemsToUserAsync(null, request);
             }
         });
         try {
@@ -4405,10 +4335,11 @@ public class PlayFabServerAPI {
 
     /** Adds the specified items to the specified user's inventory */
     @SuppressWarnings("unchecked")
-    private static PlayFabResult<GrantItemsToUserResult> privateGrantItemsToUserAsync(final GrantItemsToUserRequest request) throws Exception {
-        if (PlayFabSettings.DeveloperSecretKey == null) throw new Exception ("Must have PlayFabSettings.DeveloperSecretKey set to call this method");
+    static PlayFabResult<GrantItemsToUserResult> privateGrantItemsToUserAsync(final PlayFabInstanceAPI instance, final GrantItemsToUserRequest request) throws Exception {
+        final PlayFabApiContext context = PlayFabInstanceAPI.contextOf(instance);
+        if (context.getDeveloperSecretKey() == null) throw new Exception ("Must have PlayFabSettings.DeveloperSecretKey set to call this method");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Server/GrantItemsToUser"), request, "X-SecretKey", PlayFabSettings.DeveloperSecretKey);
+        FutureTask<Object> task = PlayFabHTTP.doPost(context.getURL("/Server/GrantItemsToUser"), request, "X-SecretKey", context.getDeveloperSecretKey(), GrantItemsToUserResult.class);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -4419,9 +4350,7 @@ public class PlayFabServerAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
-
-        PlayFabJsonSuccess<GrantItemsToUserResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<GrantItemsToUserResult>>(){}.getType());
+        PlayFabJsonSuccess<GrantItemsToUserResult> resultData = (PlayFabJsonSuccess<GrantItemsToUserResult>) httpResult;
         GrantItemsToUserResult result = resultData.data;
 
         PlayFabResult<GrantItemsToUserResult> pfResult = new PlayFabResult<GrantItemsToUserResult>();
@@ -4438,7 +4367,7 @@ public class PlayFabServerAPI {
     public static FutureTask<PlayFabResult<GrantItemsToUsersResult>> GrantItemsToUsersAsync(final GrantItemsToUsersRequest request) {
         return new FutureTask(new Callable<PlayFabResult<GrantItemsToUsersResult>>() {
             public PlayFabResult<GrantItemsToUsersResult> call() throws Exception {
-                return privateGrantItemsToUsersAsync(request);
+                return privateGrantItemsToUsersAsync(null, request);
             }
         });
     }
@@ -4452,7 +4381,7 @@ public class PlayFabServerAPI {
     public static PlayFabResult<GrantItemsToUsersResult> GrantItemsToUsers(final GrantItemsToUsersRequest request) {
         FutureTask<PlayFabResult<GrantItemsToUsersResult>> task = new FutureTask(new Callable<PlayFabResult<GrantItemsToUsersResult>>() {
             public PlayFabResult<GrantItemsToUsersResult> call() throws Exception {
-                return privateGrantItemsToUsersAsync(request);
+                return privateGrantItemsToUsersAsync(null, request);
             }
         });
         try {
@@ -4467,10 +4396,11 @@ public class PlayFabServerAPI {
 
     /** Adds the specified items to the specified user inventories */
     @SuppressWarnings("unchecked")
-    private static PlayFabResult<GrantItemsToUsersResult> privateGrantItemsToUsersAsync(final GrantItemsToUsersRequest request) throws Exception {
-        if (PlayFabSettings.DeveloperSecretKey == null) throw new Exception ("Must have PlayFabSettings.DeveloperSecretKey set to call this method");
+    static PlayFabResult<GrantItemsToUsersResult> privateGrantItemsToUsersAsync(final PlayFabInstanceAPI instance, final GrantItemsToUsersRequest request) throws Exception {
+        final PlayFabApiContext context = PlayFabInstanceAPI.contextOf(instance);
+        if (context.getDeveloperSecretKey() == null) throw new Exception ("Must have PlayFabSettings.DeveloperSecretKey set to call this method");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Server/GrantItemsToUsers"), request, "X-SecretKey", PlayFabSettings.DeveloperSecretKey);
+        FutureTask<Object> task = PlayFabHTTP.doPost(context.getURL("/Server/GrantItemsToUsers"), request, "X-SecretKey", context.getDeveloperSecretKey(), GrantItemsToUsersResult.class);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -4481,9 +4411,7 @@ public class PlayFabServerAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
-
-        PlayFabJsonSuccess<GrantItemsToUsersResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<GrantItemsToUsersResult>>(){}.getType());
+        PlayFabJsonSuccess<GrantItemsToUsersResult> resultData = (PlayFabJsonSuccess<GrantItemsToUsersResult>) httpResult;
         GrantItemsToUsersResult result = resultData.data;
 
         PlayFabResult<GrantItemsToUsersResult> pfResult = new PlayFabResult<GrantItemsToUsersResult>();
@@ -4500,7 +4428,7 @@ public class PlayFabServerAPI {
     public static FutureTask<PlayFabResult<LinkPSNAccountResult>> LinkPSNAccountAsync(final LinkPSNAccountRequest request) {
         return new FutureTask(new Callable<PlayFabResult<LinkPSNAccountResult>>() {
             public PlayFabResult<LinkPSNAccountResult> call() throws Exception {
-                return privateLinkPSNAccountAsync(request);
+                return privateLinkPSNAccountAsync(null, request);
             }
         });
     }
@@ -4514,7 +4442,7 @@ public class PlayFabServerAPI {
     public static PlayFabResult<LinkPSNAccountResult> LinkPSNAccount(final LinkPSNAccountRequest request) {
         FutureTask<PlayFabResult<LinkPSNAccountResult>> task = new FutureTask(new Callable<PlayFabResult<LinkPSNAccountResult>>() {
             public PlayFabResult<LinkPSNAccountResult> call() throws Exception {
-                return privateLinkPSNAccountAsync(request);
+                return privateLinkPSNAccountAsync(null, request);
             }
         });
         try {
@@ -4529,10 +4457,11 @@ public class PlayFabServerAPI {
 
     /** Links the PlayStation Network account associated with the provided access code to the user's PlayFab account */
     @SuppressWarnings("unchecked")
-    private static PlayFabResult<LinkPSNAccountResult> privateLinkPSNAccountAsync(final LinkPSNAccountRequest request) throws Exception {
-        if (PlayFabSettings.DeveloperSecretKey == null) throw new Exception ("Must have PlayFabSettings.DeveloperSecretKey set to call this method");
+    static PlayFabResult<LinkPSNAccountResult> privateLinkPSNAccountAsync(final PlayFabInstanceAPI instance, final LinkPSNAccountRequest request) throws Exception {
+        final PlayFabApiContext context = PlayFabInstanceAPI.contextOf(instance);
+        if (context.getDeveloperSecretKey() == null) throw new Exception ("Must have PlayFabSettings.DeveloperSecretKey set to call this method");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Server/LinkPSNAccount"), request, "X-SecretKey", PlayFabSettings.DeveloperSecretKey);
+        FutureTask<Object> task = PlayFabHTTP.doPost(context.getURL("/Server/LinkPSNAccount"), request, "X-SecretKey", context.getDeveloperSecretKey(), LinkPSNAccountResult.class);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -4543,9 +4472,7 @@ public class PlayFabServerAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
-
-        PlayFabJsonSuccess<LinkPSNAccountResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<LinkPSNAccountResult>>(){}.getType());
+        PlayFabJsonSuccess<LinkPSNAccountResult> resultData = (PlayFabJsonSuccess<LinkPSNAccountResult>) httpResult;
         LinkPSNAccountResult result = resultData.data;
 
         PlayFabResult<LinkPSNAccountResult> pfResult = new PlayFabResult<LinkPSNAccountResult>();
@@ -4562,7 +4489,7 @@ public class PlayFabServerAPI {
     public static FutureTask<PlayFabResult<LinkServerCustomIdResult>> LinkServerCustomIdAsync(final LinkServerCustomIdRequest request) {
         return new FutureTask(new Callable<PlayFabResult<LinkServerCustomIdResult>>() {
             public PlayFabResult<LinkServerCustomIdResult> call() throws Exception {
-                return privateLinkServerCustomIdAsync(request);
+                return privateLinkServerCustomIdAsync(null, request);
             }
         });
     }
@@ -4576,7 +4503,7 @@ public class PlayFabServerAPI {
     public static PlayFabResult<LinkServerCustomIdResult> LinkServerCustomId(final LinkServerCustomIdRequest request) {
         FutureTask<PlayFabResult<LinkServerCustomIdResult>> task = new FutureTask(new Callable<PlayFabResult<LinkServerCustomIdResult>>() {
             public PlayFabResult<LinkServerCustomIdResult> call() throws Exception {
-                return privateLinkServerCustomIdAsync(request);
+                return privateLinkServerCustomIdAsync(null, request);
             }
         });
         try {
@@ -4591,10 +4518,11 @@ public class PlayFabServerAPI {
 
     /** Links the custom server identifier, generated by the title, to the user's PlayFab account. */
     @SuppressWarnings("unchecked")
-    private static PlayFabResult<LinkServerCustomIdResult> privateLinkServerCustomIdAsync(final LinkServerCustomIdRequest request) throws Exception {
-        if (PlayFabSettings.DeveloperSecretKey == null) throw new Exception ("Must have PlayFabSettings.DeveloperSecretKey set to call this method");
+    static PlayFabResult<LinkServerCustomIdResult> privateLinkServerCustomIdAsync(final PlayFabInstanceAPI instance, final LinkServerCustomIdRequest request) throws Exception {
+        final PlayFabApiContext context = PlayFabInstanceAPI.contextOf(instance);
+        if (context.getDeveloperSecretKey() == null) throw new Exception ("Must have PlayFabSettings.DeveloperSecretKey set to call this method");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Server/LinkServerCustomId"), request, "X-SecretKey", PlayFabSettings.DeveloperSecretKey);
+        FutureTask<Object> task = PlayFabHTTP.doPost(context.getURL("/Server/LinkServerCustomId"), request, "X-SecretKey", context.getDeveloperSecretKey(), LinkServerCustomIdResult.class);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -4605,9 +4533,7 @@ public class PlayFabServerAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
-
-        PlayFabJsonSuccess<LinkServerCustomIdResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<LinkServerCustomIdResult>>(){}.getType());
+        PlayFabJsonSuccess<LinkServerCustomIdResult> resultData = (PlayFabJsonSuccess<LinkServerCustomIdResult>) httpResult;
         LinkServerCustomIdResult result = resultData.data;
 
         PlayFabResult<LinkServerCustomIdResult> pfResult = new PlayFabResult<LinkServerCustomIdResult>();
@@ -4624,7 +4550,7 @@ public class PlayFabServerAPI {
     public static FutureTask<PlayFabResult<LinkXboxAccountResult>> LinkXboxAccountAsync(final LinkXboxAccountRequest request) {
         return new FutureTask(new Callable<PlayFabResult<LinkXboxAccountResult>>() {
             public PlayFabResult<LinkXboxAccountResult> call() throws Exception {
-                return privateLinkXboxAccountAsync(request);
+                return privateLinkXboxAccountAsync(null, request);
             }
         });
     }
@@ -4638,7 +4564,7 @@ public class PlayFabServerAPI {
     public static PlayFabResult<LinkXboxAccountResult> LinkXboxAccount(final LinkXboxAccountRequest request) {
         FutureTask<PlayFabResult<LinkXboxAccountResult>> task = new FutureTask(new Callable<PlayFabResult<LinkXboxAccountResult>>() {
             public PlayFabResult<LinkXboxAccountResult> call() throws Exception {
-                return privateLinkXboxAccountAsync(request);
+                return privateLinkXboxAccountAsync(null, request);
             }
         });
         try {
@@ -4653,10 +4579,11 @@ public class PlayFabServerAPI {
 
     /** Links the Xbox Live account associated with the provided access code to the user's PlayFab account */
     @SuppressWarnings("unchecked")
-    private static PlayFabResult<LinkXboxAccountResult> privateLinkXboxAccountAsync(final LinkXboxAccountRequest request) throws Exception {
-        if (PlayFabSettings.DeveloperSecretKey == null) throw new Exception ("Must have PlayFabSettings.DeveloperSecretKey set to call this method");
+    static PlayFabResult<LinkXboxAccountResult> privateLinkXboxAccountAsync(final PlayFabInstanceAPI instance, final LinkXboxAccountRequest request) throws Exception {
+        final PlayFabApiContext context = PlayFabInstanceAPI.contextOf(instance);
+        if (context.getDeveloperSecretKey() == null) throw new Exception ("Must have PlayFabSettings.DeveloperSecretKey set to call this method");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Server/LinkXboxAccount"), request, "X-SecretKey", PlayFabSettings.DeveloperSecretKey);
+        FutureTask<Object> task = PlayFabHTTP.doPost(context.getURL("/Server/LinkXboxAccount"), request, "X-SecretKey", context.getDeveloperSecretKey(), LinkXboxAccountResult.class);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -4667,9 +4594,7 @@ public class PlayFabServerAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
-
-        PlayFabJsonSuccess<LinkXboxAccountResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<LinkXboxAccountResult>>(){}.getType());
+        PlayFabJsonSuccess<LinkXboxAccountResult> resultData = (PlayFabJsonSuccess<LinkXboxAccountResult>) httpResult;
         LinkXboxAccountResult result = resultData.data;
 
         PlayFabResult<LinkXboxAccountResult> pfResult = new PlayFabResult<LinkXboxAccountResult>();
@@ -4687,7 +4612,7 @@ public class PlayFabServerAPI {
     public static FutureTask<PlayFabResult<ServerLoginResult>> LoginWithServerCustomIdAsync(final LoginWithServerCustomIdRequest request) {
         return new FutureTask(new Callable<PlayFabResult<ServerLoginResult>>() {
             public PlayFabResult<ServerLoginResult> call() throws Exception {
-                return privateLoginWithServerCustomIdAsync(request);
+                return privateLoginWithServerCustomIdAsync(null, request);
             }
         });
     }
@@ -4702,7 +4627,7 @@ public class PlayFabServerAPI {
     public static PlayFabResult<ServerLoginResult> LoginWithServerCustomId(final LoginWithServerCustomIdRequest request) {
         FutureTask<PlayFabResult<ServerLoginResult>> task = new FutureTask(new Callable<PlayFabResult<ServerLoginResult>>() {
             public PlayFabResult<ServerLoginResult> call() throws Exception {
-                return privateLoginWithServerCustomIdAsync(request);
+                return privateLoginWithServerCustomIdAsync(null, request);
             }
         });
         try {
@@ -4720,10 +4645,11 @@ public class PlayFabServerAPI {
      * and Client Custom ID are mutually exclusive and cannot be used to retrieve the same player account.
      */
     @SuppressWarnings("unchecked")
-    private static PlayFabResult<ServerLoginResult> privateLoginWithServerCustomIdAsync(final LoginWithServerCustomIdRequest request) throws Exception {
-        if (PlayFabSettings.DeveloperSecretKey == null) throw new Exception ("Must have PlayFabSettings.DeveloperSecretKey set to call this method");
+    static PlayFabResult<ServerLoginResult> privateLoginWithServerCustomIdAsync(final PlayFabInstanceAPI instance, final LoginWithServerCustomIdRequest request) throws Exception {
+        final PlayFabApiContext context = PlayFabInstanceAPI.contextOf(instance);
+        if (context.getDeveloperSecretKey() == null) throw new Exception ("Must have PlayFabSettings.DeveloperSecretKey set to call this method");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Server/LoginWithServerCustomId"), request, "X-SecretKey", PlayFabSettings.DeveloperSecretKey);
+        FutureTask<Object> task = PlayFabHTTP.doPost(context.getURL("/Server/LoginWithServerCustomId"), request, "X-SecretKey", context.getDeveloperSecretKey(), ServerLoginResult.class);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -4734,9 +4660,7 @@ public class PlayFabServerAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
-
-        PlayFabJsonSuccess<ServerLoginResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<ServerLoginResult>>(){}.getType());
+        PlayFabJsonSuccess<ServerLoginResult> resultData = (PlayFabJsonSuccess<ServerLoginResult>) httpResult;
         ServerLoginResult result = resultData.data;
 
         PlayFabResult<ServerLoginResult> pfResult = new PlayFabResult<ServerLoginResult>();
@@ -4754,7 +4678,7 @@ public class PlayFabServerAPI {
     public static FutureTask<PlayFabResult<ServerLoginResult>> LoginWithSteamIdAsync(final LoginWithSteamIdRequest request) {
         return new FutureTask(new Callable<PlayFabResult<ServerLoginResult>>() {
             public PlayFabResult<ServerLoginResult> call() throws Exception {
-                return privateLoginWithSteamIdAsync(request);
+                return privateLoginWithSteamIdAsync(null, request);
             }
         });
     }
@@ -4769,7 +4693,7 @@ public class PlayFabServerAPI {
     public static PlayFabResult<ServerLoginResult> LoginWithSteamId(final LoginWithSteamIdRequest request) {
         FutureTask<PlayFabResult<ServerLoginResult>> task = new FutureTask(new Callable<PlayFabResult<ServerLoginResult>>() {
             public PlayFabResult<ServerLoginResult> call() throws Exception {
-                return privateLoginWithSteamIdAsync(request);
+                return privateLoginWithSteamIdAsync(null, request);
             }
         });
         try {
@@ -4787,10 +4711,11 @@ public class PlayFabServerAPI {
      * require an authenticated user
      */
     @SuppressWarnings("unchecked")
-    private static PlayFabResult<ServerLoginResult> privateLoginWithSteamIdAsync(final LoginWithSteamIdRequest request) throws Exception {
-        if (PlayFabSettings.DeveloperSecretKey == null) throw new Exception ("Must have PlayFabSettings.DeveloperSecretKey set to call this method");
+    static PlayFabResult<ServerLoginResult> privateLoginWithSteamIdAsync(final PlayFabInstanceAPI instance, final LoginWithSteamIdRequest request) throws Exception {
+        final PlayFabApiContext context = PlayFabInstanceAPI.contextOf(instance);
+        if (context.getDeveloperSecretKey() == null) throw new Exception ("Must have PlayFabSettings.DeveloperSecretKey set to call this method");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Server/LoginWithSteamId"), request, "X-SecretKey", PlayFabSettings.DeveloperSecretKey);
+        FutureTask<Object> task = PlayFabHTTP.doPost(context.getURL("/Server/LoginWithSteamId"), request, "X-SecretKey", context.getDeveloperSecretKey(), ServerLoginResult.class);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -4801,9 +4726,7 @@ public class PlayFabServerAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
-
-        PlayFabJsonSuccess<ServerLoginResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<ServerLoginResult>>(){}.getType());
+        PlayFabJsonSuccess<ServerLoginResult> resultData = (PlayFabJsonSuccess<ServerLoginResult>) httpResult;
         ServerLoginResult result = resultData.data;
 
         PlayFabResult<ServerLoginResult> pfResult = new PlayFabResult<ServerLoginResult>();
@@ -4821,7 +4744,7 @@ public class PlayFabServerAPI {
     public static FutureTask<PlayFabResult<ServerLoginResult>> LoginWithXboxAsync(final LoginWithXboxRequest request) {
         return new FutureTask(new Callable<PlayFabResult<ServerLoginResult>>() {
             public PlayFabResult<ServerLoginResult> call() throws Exception {
-                return privateLoginWithXboxAsync(request);
+                return privateLoginWithXboxAsync(null, request);
             }
         });
     }
@@ -4836,7 +4759,7 @@ public class PlayFabServerAPI {
     public static PlayFabResult<ServerLoginResult> LoginWithXbox(final LoginWithXboxRequest request) {
         FutureTask<PlayFabResult<ServerLoginResult>> task = new FutureTask(new Callable<PlayFabResult<ServerLoginResult>>() {
             public PlayFabResult<ServerLoginResult> call() throws Exception {
-                return privateLoginWithXboxAsync(request);
+                return privateLoginWithXboxAsync(null, request);
             }
         });
         try {
@@ -4854,10 +4777,11 @@ public class PlayFabServerAPI {
      * subsequently be used for API calls which require an authenticated user
      */
     @SuppressWarnings("unchecked")
-    private static PlayFabResult<ServerLoginResult> privateLoginWithXboxAsync(final LoginWithXboxRequest request) throws Exception {
-        if (PlayFabSettings.DeveloperSecretKey == null) throw new Exception ("Must have PlayFabSettings.DeveloperSecretKey set to call this method");
+    static PlayFabResult<ServerLoginResult> privateLoginWithXboxAsync(final PlayFabInstanceAPI instance, final LoginWithXboxRequest request) throws Exception {
+        final PlayFabApiContext context = PlayFabInstanceAPI.contextOf(instance);
+        if (context.getDeveloperSecretKey() == null) throw new Exception ("Must have PlayFabSettings.DeveloperSecretKey set to call this method");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Server/LoginWithXbox"), request, "X-SecretKey", PlayFabSettings.DeveloperSecretKey);
+        FutureTask<Object> task = PlayFabHTTP.doPost(context.getURL("/Server/LoginWithXbox"), request, "X-SecretKey", context.getDeveloperSecretKey(), ServerLoginResult.class);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -4868,9 +4792,7 @@ public class PlayFabServerAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
-
-        PlayFabJsonSuccess<ServerLoginResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<ServerLoginResult>>(){}.getType());
+        PlayFabJsonSuccess<ServerLoginResult> resultData = (PlayFabJsonSuccess<ServerLoginResult>) httpResult;
         ServerLoginResult result = resultData.data;
 
         PlayFabResult<ServerLoginResult> pfResult = new PlayFabResult<ServerLoginResult>();
@@ -4888,7 +4810,7 @@ public class PlayFabServerAPI {
     public static FutureTask<PlayFabResult<ServerLoginResult>> LoginWithXboxIdAsync(final LoginWithXboxIdRequest request) {
         return new FutureTask(new Callable<PlayFabResult<ServerLoginResult>>() {
             public PlayFabResult<ServerLoginResult> call() throws Exception {
-                return privateLoginWithXboxIdAsync(request);
+                return privateLoginWithXboxIdAsync(null, request);
             }
         });
     }
@@ -4903,7 +4825,7 @@ public class PlayFabServerAPI {
     public static PlayFabResult<ServerLoginResult> LoginWithXboxId(final LoginWithXboxIdRequest request) {
         FutureTask<PlayFabResult<ServerLoginResult>> task = new FutureTask(new Callable<PlayFabResult<ServerLoginResult>>() {
             public PlayFabResult<ServerLoginResult> call() throws Exception {
-                return privateLoginWithXboxIdAsync(request);
+                return privateLoginWithXboxIdAsync(null, request);
             }
         });
         try {
@@ -4921,10 +4843,11 @@ public class PlayFabServerAPI {
      * calls which require an authenticated user
      */
     @SuppressWarnings("unchecked")
-    private static PlayFabResult<ServerLoginResult> privateLoginWithXboxIdAsync(final LoginWithXboxIdRequest request) throws Exception {
-        if (PlayFabSettings.DeveloperSecretKey == null) throw new Exception ("Must have PlayFabSettings.DeveloperSecretKey set to call this method");
+    static PlayFabResult<ServerLoginResult> privateLoginWithXboxIdAsync(final PlayFabInstanceAPI instance, final LoginWithXboxIdRequest request) throws Exception {
+        final PlayFabApiContext context = PlayFabInstanceAPI.contextOf(instance);
+        if (context.getDeveloperSecretKey() == null) throw new Exception ("Must have PlayFabSettings.DeveloperSecretKey set to call this method");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Server/LoginWithXboxId"), request, "X-SecretKey", PlayFabSettings.DeveloperSecretKey);
+        FutureTask<Object> task = PlayFabHTTP.doPost(context.getURL("/Server/LoginWithXboxId"), request, "X-SecretKey", context.getDeveloperSecretKey(), ServerLoginResult.class);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -4935,9 +4858,7 @@ public class PlayFabServerAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
-
-        PlayFabJsonSuccess<ServerLoginResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<ServerLoginResult>>(){}.getType());
+        PlayFabJsonSuccess<ServerLoginResult> resultData = (PlayFabJsonSuccess<ServerLoginResult>) httpResult;
         ServerLoginResult result = resultData.data;
 
         PlayFabResult<ServerLoginResult> pfResult = new PlayFabResult<ServerLoginResult>();
@@ -4954,7 +4875,7 @@ public class PlayFabServerAPI {
     public static FutureTask<PlayFabResult<ModifyItemUsesResult>> ModifyItemUsesAsync(final ModifyItemUsesRequest request) {
         return new FutureTask(new Callable<PlayFabResult<ModifyItemUsesResult>>() {
             public PlayFabResult<ModifyItemUsesResult> call() throws Exception {
-                return privateModifyItemUsesAsync(request);
+                return privateModifyItemUsesAsync(null, request);
             }
         });
     }
@@ -4968,7 +4889,7 @@ public class PlayFabServerAPI {
     public static PlayFabResult<ModifyItemUsesResult> ModifyItemUses(final ModifyItemUsesRequest request) {
         FutureTask<PlayFabResult<ModifyItemUsesResult>> task = new FutureTask(new Callable<PlayFabResult<ModifyItemUsesResult>>() {
             public PlayFabResult<ModifyItemUsesResult> call() throws Exception {
-                return privateModifyItemUsesAsync(request);
+                return privateModifyItemUsesAsync(null, request);
             }
         });
         try {
@@ -4983,10 +4904,11 @@ public class PlayFabServerAPI {
 
     /** Modifies the number of remaining uses of a player's inventory item */
     @SuppressWarnings("unchecked")
-    private static PlayFabResult<ModifyItemUsesResult> privateModifyItemUsesAsync(final ModifyItemUsesRequest request) throws Exception {
-        if (PlayFabSettings.DeveloperSecretKey == null) throw new Exception ("Must have PlayFabSettings.DeveloperSecretKey set to call this method");
+    static PlayFabResult<ModifyItemUsesResult> privateModifyItemUsesAsync(final PlayFabInstanceAPI instance, final ModifyItemUsesRequest request) throws Exception {
+        final PlayFabApiContext context = PlayFabInstanceAPI.contextOf(instance);
+        if (context.getDeveloperSecretKey() == null) throw new Exception ("Must have PlayFabSettings.DeveloperSecretKey set to call this method");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Server/ModifyItemUses"), request, "X-SecretKey", PlayFabSettings.DeveloperSecretKey);
+        FutureTask<Object> task = PlayFabHTTP.doPost(context.getURL("/Server/ModifyItemUses"), request, "X-SecretKey", context.getDeveloperSecretKey(), ModifyItemUsesResult.class);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -4997,9 +4919,7 @@ public class PlayFabServerAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
-
-        PlayFabJsonSuccess<ModifyItemUsesResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<ModifyItemUsesResult>>(){}.getType());
+        PlayFabJsonSuccess<ModifyItemUsesResult> resultData = (PlayFabJsonSuccess<ModifyItemUsesResult>) httpResult;
         ModifyItemUsesResult result = resultData.data;
 
         PlayFabResult<ModifyItemUsesResult> pfResult = new PlayFabResult<ModifyItemUsesResult>();
@@ -5016,7 +4936,7 @@ public class PlayFabServerAPI {
     public static FutureTask<PlayFabResult<MoveItemToCharacterFromCharacterResult>> MoveItemToCharacterFromCharacterAsync(final MoveItemToCharacterFromCharacterRequest request) {
         return new FutureTask(new Callable<PlayFabResult<MoveItemToCharacterFromCharacterResult>>() {
             public PlayFabResult<MoveItemToCharacterFromCharacterResult> call() throws Exception {
-                return privateMoveItemToCharacterFromCharacterAsync(request);
+                return privateMoveItemToCharacterFromCharacterAsync(null, request);
             }
         });
     }
@@ -5030,7 +4950,7 @@ public class PlayFabServerAPI {
     public static PlayFabResult<MoveItemToCharacterFromCharacterResult> MoveItemToCharacterFromCharacter(final MoveItemToCharacterFromCharacterRequest request) {
         FutureTask<PlayFabResult<MoveItemToCharacterFromCharacterResult>> task = new FutureTask(new Callable<PlayFabResult<MoveItemToCharacterFromCharacterResult>>() {
             public PlayFabResult<MoveItemToCharacterFromCharacterResult> call() throws Exception {
-                return privateMoveItemToCharacterFromCharacterAsync(request);
+                return privateMoveItemToCharacterFromCharacterAsync(null, request);
             }
         });
         try {
@@ -5045,10 +4965,11 @@ public class PlayFabServerAPI {
 
     /** Moves an item from a character's inventory into another of the users's character's inventory. */
     @SuppressWarnings("unchecked")
-    private static PlayFabResult<MoveItemToCharacterFromCharacterResult> privateMoveItemToCharacterFromCharacterAsync(final MoveItemToCharacterFromCharacterRequest request) throws Exception {
-        if (PlayFabSettings.DeveloperSecretKey == null) throw new Exception ("Must have PlayFabSettings.DeveloperSecretKey set to call this method");
+    static PlayFabResult<MoveItemToCharacterFromCharacterResult> privateMoveItemToCharacterFromCharacterAsync(final PlayFabInstanceAPI instance, final MoveItemToCharacterFromCharacterRequest request) throws Exception {
+        final PlayFabApiContext context = PlayFabInstanceAPI.contextOf(instance);
+        if (context.getDeveloperSecretKey() == null) throw new Exception ("Must have PlayFabSettings.DeveloperSecretKey set to call this method");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Server/MoveItemToCharacterFromCharacter"), request, "X-SecretKey", PlayFabSettings.DeveloperSecretKey);
+        FutureTask<Object> task = PlayFabHTTP.doPost(context.getURL("/Server/MoveItemToCharacterFromCharacter"), request, "X-SecretKey", context.getDeveloperSecretKey(), MoveItemToCharacterFromCharacterResult.class);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -5059,9 +4980,7 @@ public class PlayFabServerAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
-
-        PlayFabJsonSuccess<MoveItemToCharacterFromCharacterResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<MoveItemToCharacterFromCharacterResult>>(){}.getType());
+        PlayFabJsonSuccess<MoveItemToCharacterFromCharacterResult> resultData = (PlayFabJsonSuccess<MoveItemToCharacterFromCharacterResult>) httpResult;
         MoveItemToCharacterFromCharacterResult result = resultData.data;
 
         PlayFabResult<MoveItemToCharacterFromCharacterResult> pfResult = new PlayFabResult<MoveItemToCharacterFromCharacterResult>();
@@ -5078,7 +4997,7 @@ public class PlayFabServerAPI {
     public static FutureTask<PlayFabResult<MoveItemToCharacterFromUserResult>> MoveItemToCharacterFromUserAsync(final MoveItemToCharacterFromUserRequest request) {
         return new FutureTask(new Callable<PlayFabResult<MoveItemToCharacterFromUserResult>>() {
             public PlayFabResult<MoveItemToCharacterFromUserResult> call() throws Exception {
-                return privateMoveItemToCharacterFromUserAsync(request);
+                return privateMoveItemToCharacterFromUserAsync(null, request);
             }
         });
     }
@@ -5092,7 +5011,7 @@ public class PlayFabServerAPI {
     public static PlayFabResult<MoveItemToCharacterFromUserResult> MoveItemToCharacterFromUser(final MoveItemToCharacterFromUserRequest request) {
         FutureTask<PlayFabResult<MoveItemToCharacterFromUserResult>> task = new FutureTask(new Callable<PlayFabResult<MoveItemToCharacterFromUserResult>>() {
             public PlayFabResult<MoveItemToCharacterFromUserResult> call() throws Exception {
-                return privateMoveItemToCharacterFromUserAsync(request);
+                return privateMoveItemToCharacterFromUserAsync(null, request);
             }
         });
         try {
@@ -5107,10 +5026,11 @@ public class PlayFabServerAPI {
 
     /** Moves an item from a user's inventory into their character's inventory. */
     @SuppressWarnings("unchecked")
-    private static PlayFabResult<MoveItemToCharacterFromUserResult> privateMoveItemToCharacterFromUserAsync(final MoveItemToCharacterFromUserRequest request) throws Exception {
-        if (PlayFabSettings.DeveloperSecretKey == null) throw new Exception ("Must have PlayFabSettings.DeveloperSecretKey set to call this method");
+    static PlayFabResult<MoveItemToCharacterFromUserResult> privateMoveItemToCharacterFromUserAsync(final PlayFabInstanceAPI instance, final MoveItemToCharacterFromUserRequest request) throws Exception {
+        final PlayFabApiContext context = PlayFabInstanceAPI.contextOf(instance);
+        if (context.getDeveloperSecretKey() == null) throw new Exception ("Must have PlayFabSettings.DeveloperSecretKey set to call this method");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Server/MoveItemToCharacterFromUser"), request, "X-SecretKey", PlayFabSettings.DeveloperSecretKey);
+        FutureTask<Object> task = PlayFabHTTP.doPost(context.getURL("/Server/MoveItemToCharacterFromUser"), request, "X-SecretKey", context.getDeveloperSecretKey(), MoveItemToCharacterFromUserResult.class);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -5121,9 +5041,7 @@ public class PlayFabServerAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
-
-        PlayFabJsonSuccess<MoveItemToCharacterFromUserResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<MoveItemToCharacterFromUserResult>>(){}.getType());
+        PlayFabJsonSuccess<MoveItemToCharacterFromUserResult> resultData = (PlayFabJsonSuccess<MoveItemToCharacterFromUserResult>) httpResult;
         MoveItemToCharacterFromUserResult result = resultData.data;
 
         PlayFabResult<MoveItemToCharacterFromUserResult> pfResult = new PlayFabResult<MoveItemToCharacterFromUserResult>();
@@ -5140,7 +5058,7 @@ public class PlayFabServerAPI {
     public static FutureTask<PlayFabResult<MoveItemToUserFromCharacterResult>> MoveItemToUserFromCharacterAsync(final MoveItemToUserFromCharacterRequest request) {
         return new FutureTask(new Callable<PlayFabResult<MoveItemToUserFromCharacterResult>>() {
             public PlayFabResult<MoveItemToUserFromCharacterResult> call() throws Exception {
-                return privateMoveItemToUserFromCharacterAsync(request);
+                return privateMoveItemToUserFromCharacterAsync(null, request);
             }
         });
     }
@@ -5154,7 +5072,7 @@ public class PlayFabServerAPI {
     public static PlayFabResult<MoveItemToUserFromCharacterResult> MoveItemToUserFromCharacter(final MoveItemToUserFromCharacterRequest request) {
         FutureTask<PlayFabResult<MoveItemToUserFromCharacterResult>> task = new FutureTask(new Callable<PlayFabResult<MoveItemToUserFromCharacterResult>>() {
             public PlayFabResult<MoveItemToUserFromCharacterResult> call() throws Exception {
-                return privateMoveItemToUserFromCharacterAsync(request);
+                return privateMoveItemToUserFromCharacterAsync(null, request);
             }
         });
         try {
@@ -5169,10 +5087,11 @@ public class PlayFabServerAPI {
 
     /** Moves an item from a character's inventory into the owning user's inventory. */
     @SuppressWarnings("unchecked")
-    private static PlayFabResult<MoveItemToUserFromCharacterResult> privateMoveItemToUserFromCharacterAsync(final MoveItemToUserFromCharacterRequest request) throws Exception {
-        if (PlayFabSettings.DeveloperSecretKey == null) throw new Exception ("Must have PlayFabSettings.DeveloperSecretKey set to call this method");
+    static PlayFabResult<MoveItemToUserFromCharacterResult> privateMoveItemToUserFromCharacterAsync(final PlayFabInstanceAPI instance, final MoveItemToUserFromCharacterRequest request) throws Exception {
+        final PlayFabApiContext context = PlayFabInstanceAPI.contextOf(instance);
+        if (context.getDeveloperSecretKey() == null) throw new Exception ("Must have PlayFabSettings.DeveloperSecretKey set to call this method");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Server/MoveItemToUserFromCharacter"), request, "X-SecretKey", PlayFabSettings.DeveloperSecretKey);
+        FutureTask<Object> task = PlayFabHTTP.doPost(context.getURL("/Server/MoveItemToUserFromCharacter"), request, "X-SecretKey", context.getDeveloperSecretKey(), MoveItemToUserFromCharacterResult.class);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -5183,9 +5102,7 @@ public class PlayFabServerAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
-
-        PlayFabJsonSuccess<MoveItemToUserFromCharacterResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<MoveItemToUserFromCharacterResult>>(){}.getType());
+        PlayFabJsonSuccess<MoveItemToUserFromCharacterResult> resultData = (PlayFabJsonSuccess<MoveItemToUserFromCharacterResult>) httpResult;
         MoveItemToUserFromCharacterResult result = resultData.data;
 
         PlayFabResult<MoveItemToUserFromCharacterResult> pfResult = new PlayFabResult<MoveItemToUserFromCharacterResult>();
@@ -5202,7 +5119,7 @@ public class PlayFabServerAPI {
     public static FutureTask<PlayFabResult<NotifyMatchmakerPlayerLeftResult>> NotifyMatchmakerPlayerLeftAsync(final NotifyMatchmakerPlayerLeftRequest request) {
         return new FutureTask(new Callable<PlayFabResult<NotifyMatchmakerPlayerLeftResult>>() {
             public PlayFabResult<NotifyMatchmakerPlayerLeftResult> call() throws Exception {
-                return privateNotifyMatchmakerPlayerLeftAsync(request);
+                return privateNotifyMatchmakerPlayerLeftAsync(null, request);
             }
         });
     }
@@ -5216,7 +5133,7 @@ public class PlayFabServerAPI {
     public static PlayFabResult<NotifyMatchmakerPlayerLeftResult> NotifyMatchmakerPlayerLeft(final NotifyMatchmakerPlayerLeftRequest request) {
         FutureTask<PlayFabResult<NotifyMatchmakerPlayerLeftResult>> task = new FutureTask(new Callable<PlayFabResult<NotifyMatchmakerPlayerLeftResult>>() {
             public PlayFabResult<NotifyMatchmakerPlayerLeftResult> call() throws Exception {
-                return privateNotifyMatchmakerPlayerLeftAsync(request);
+                return privateNotifyMatchmakerPlayerLeftAsync(null, request);
             }
         });
         try {
@@ -5231,10 +5148,11 @@ public class PlayFabServerAPI {
 
     /** Informs the PlayFab match-making service that the user specified has left the Game Server Instance */
     @SuppressWarnings("unchecked")
-    private static PlayFabResult<NotifyMatchmakerPlayerLeftResult> privateNotifyMatchmakerPlayerLeftAsync(final NotifyMatchmakerPlayerLeftRequest request) throws Exception {
-        if (PlayFabSettings.DeveloperSecretKey == null) throw new Exception ("Must have PlayFabSettings.DeveloperSecretKey set to call this method");
+    static PlayFabResult<NotifyMatchmakerPlayerLeftResult> privateNotifyMatchmakerPlayerLeftAsync(final PlayFabInstanceAPI instance, final NotifyMatchmakerPlayerLeftRequest request) throws Exception {
+        final PlayFabApiContext context = PlayFabInstanceAPI.contextOf(instance);
+        if (context.getDeveloperSecretKey() == null) throw new Exception ("Must have PlayFabSettings.DeveloperSecretKey set to call this method");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Server/NotifyMatchmakerPlayerLeft"), request, "X-SecretKey", PlayFabSettings.DeveloperSecretKey);
+        FutureTask<Object> task = PlayFabHTTP.doPost(context.getURL("/Server/NotifyMatchmakerPlayerLeft"), request, "X-SecretKey", context.getDeveloperSecretKey(), NotifyMatchmakerPlayerLeftResult.class);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -5245,9 +5163,7 @@ public class PlayFabServerAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
-
-        PlayFabJsonSuccess<NotifyMatchmakerPlayerLeftResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<NotifyMatchmakerPlayerLeftResult>>(){}.getType());
+        PlayFabJsonSuccess<NotifyMatchmakerPlayerLeftResult> resultData = (PlayFabJsonSuccess<NotifyMatchmakerPlayerLeftResult>) httpResult;
         NotifyMatchmakerPlayerLeftResult result = resultData.data;
 
         PlayFabResult<NotifyMatchmakerPlayerLeftResult> pfResult = new PlayFabResult<NotifyMatchmakerPlayerLeftResult>();
@@ -5265,7 +5181,7 @@ public class PlayFabServerAPI {
     public static FutureTask<PlayFabResult<RedeemCouponResult>> RedeemCouponAsync(final RedeemCouponRequest request) {
         return new FutureTask(new Callable<PlayFabResult<RedeemCouponResult>>() {
             public PlayFabResult<RedeemCouponResult> call() throws Exception {
-                return privateRedeemCouponAsync(request);
+                return privateRedeemCouponAsync(null, request);
             }
         });
     }
@@ -5280,7 +5196,7 @@ public class PlayFabServerAPI {
     public static PlayFabResult<RedeemCouponResult> RedeemCoupon(final RedeemCouponRequest request) {
         FutureTask<PlayFabResult<RedeemCouponResult>> task = new FutureTask(new Callable<PlayFabResult<RedeemCouponResult>>() {
             public PlayFabResult<RedeemCouponResult> call() throws Exception {
-                return privateRedeemCouponAsync(request);
+                return privateRedeemCouponAsync(null, request);
             }
         });
         try {
@@ -5298,10 +5214,11 @@ public class PlayFabServerAPI {
      * Economy-&gt;Catalogs tab in the PlayFab Game Manager.
      */
     @SuppressWarnings("unchecked")
-    private static PlayFabResult<RedeemCouponResult> privateRedeemCouponAsync(final RedeemCouponRequest request) throws Exception {
-        if (PlayFabSettings.DeveloperSecretKey == null) throw new Exception ("Must have PlayFabSettings.DeveloperSecretKey set to call this method");
+    static PlayFabResult<RedeemCouponResult> privateRedeemCouponAsync(final PlayFabInstanceAPI instance, final RedeemCouponRequest request) throws Exception {
+        final PlayFabApiContext context = PlayFabInstanceAPI.contextOf(instance);
+        if (context.getDeveloperSecretKey() == null) throw new Exception ("Must have PlayFabSettings.DeveloperSecretKey set to call this method");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Server/RedeemCoupon"), request, "X-SecretKey", PlayFabSettings.DeveloperSecretKey);
+        FutureTask<Object> task = PlayFabHTTP.doPost(context.getURL("/Server/RedeemCoupon"), request, "X-SecretKey", context.getDeveloperSecretKey(), RedeemCouponResult.class);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -5312,9 +5229,7 @@ public class PlayFabServerAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
-
-        PlayFabJsonSuccess<RedeemCouponResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<RedeemCouponResult>>(){}.getType());
+        PlayFabJsonSuccess<RedeemCouponResult> resultData = (PlayFabJsonSuccess<RedeemCouponResult>) httpResult;
         RedeemCouponResult result = resultData.data;
 
         PlayFabResult<RedeemCouponResult> pfResult = new PlayFabResult<RedeemCouponResult>();
@@ -5331,7 +5246,7 @@ public class PlayFabServerAPI {
     public static FutureTask<PlayFabResult<RedeemMatchmakerTicketResult>> RedeemMatchmakerTicketAsync(final RedeemMatchmakerTicketRequest request) {
         return new FutureTask(new Callable<PlayFabResult<RedeemMatchmakerTicketResult>>() {
             public PlayFabResult<RedeemMatchmakerTicketResult> call() throws Exception {
-                return privateRedeemMatchmakerTicketAsync(request);
+                return privateRedeemMatchmakerTicketAsync(null, request);
             }
         });
     }
@@ -5345,7 +5260,7 @@ public class PlayFabServerAPI {
     public static PlayFabResult<RedeemMatchmakerTicketResult> RedeemMatchmakerTicket(final RedeemMatchmakerTicketRequest request) {
         FutureTask<PlayFabResult<RedeemMatchmakerTicketResult>> task = new FutureTask(new Callable<PlayFabResult<RedeemMatchmakerTicketResult>>() {
             public PlayFabResult<RedeemMatchmakerTicketResult> call() throws Exception {
-                return privateRedeemMatchmakerTicketAsync(request);
+                return privateRedeemMatchmakerTicketAsync(null, request);
             }
         });
         try {
@@ -5360,10 +5275,11 @@ public class PlayFabServerAPI {
 
     /** Validates a Game Server session ticket and returns details about the user */
     @SuppressWarnings("unchecked")
-    private static PlayFabResult<RedeemMatchmakerTicketResult> privateRedeemMatchmakerTicketAsync(final RedeemMatchmakerTicketRequest request) throws Exception {
-        if (PlayFabSettings.DeveloperSecretKey == null) throw new Exception ("Must have PlayFabSettings.DeveloperSecretKey set to call this method");
+    static PlayFabResult<RedeemMatchmakerTicketResult> privateRedeemMatchmakerTicketAsync(final PlayFabInstanceAPI instance, final RedeemMatchmakerTicketRequest request) throws Exception {
+        final PlayFabApiContext context = PlayFabInstanceAPI.contextOf(instance);
+        if (context.getDeveloperSecretKey() == null) throw new Exception ("Must have PlayFabSettings.DeveloperSecretKey set to call this method");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Server/RedeemMatchmakerTicket"), request, "X-SecretKey", PlayFabSettings.DeveloperSecretKey);
+        FutureTask<Object> task = PlayFabHTTP.doPost(context.getURL("/Server/RedeemMatchmakerTicket"), request, "X-SecretKey", context.getDeveloperSecretKey(), RedeemMatchmakerTicketResult.class);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -5374,9 +5290,7 @@ public class PlayFabServerAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
-
-        PlayFabJsonSuccess<RedeemMatchmakerTicketResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<RedeemMatchmakerTicketResult>>(){}.getType());
+        PlayFabJsonSuccess<RedeemMatchmakerTicketResult> resultData = (PlayFabJsonSuccess<RedeemMatchmakerTicketResult>) httpResult;
         RedeemMatchmakerTicketResult result = resultData.data;
 
         PlayFabResult<RedeemMatchmakerTicketResult> pfResult = new PlayFabResult<RedeemMatchmakerTicketResult>();
@@ -5393,7 +5307,7 @@ public class PlayFabServerAPI {
     public static FutureTask<PlayFabResult<RefreshGameServerInstanceHeartbeatResult>> RefreshGameServerInstanceHeartbeatAsync(final RefreshGameServerInstanceHeartbeatRequest request) {
         return new FutureTask(new Callable<PlayFabResult<RefreshGameServerInstanceHeartbeatResult>>() {
             public PlayFabResult<RefreshGameServerInstanceHeartbeatResult> call() throws Exception {
-                return privateRefreshGameServerInstanceHeartbeatAsync(request);
+                return privateRefreshGameServerInstanceHeartbeatAsync(null, request);
             }
         });
     }
@@ -5407,7 +5321,7 @@ public class PlayFabServerAPI {
     public static PlayFabResult<RefreshGameServerInstanceHeartbeatResult> RefreshGameServerInstanceHeartbeat(final RefreshGameServerInstanceHeartbeatRequest request) {
         FutureTask<PlayFabResult<RefreshGameServerInstanceHeartbeatResult>> task = new FutureTask(new Callable<PlayFabResult<RefreshGameServerInstanceHeartbeatResult>>() {
             public PlayFabResult<RefreshGameServerInstanceHeartbeatResult> call() throws Exception {
-                return privateRefreshGameServerInstanceHeartbeatAsync(request);
+                return privateRefreshGameServerInstanceHeartbeatAsync(null, request);
             }
         });
         try {
@@ -5422,10 +5336,11 @@ public class PlayFabServerAPI {
 
     /** Set the state of the indicated Game Server Instance. Also update the heartbeat for the instance. */
     @SuppressWarnings("unchecked")
-    private static PlayFabResult<RefreshGameServerInstanceHeartbeatResult> privateRefreshGameServerInstanceHeartbeatAsync(final RefreshGameServerInstanceHeartbeatRequest request) throws Exception {
-        if (PlayFabSettings.DeveloperSecretKey == null) throw new Exception ("Must have PlayFabSettings.DeveloperSecretKey set to call this method");
+    static PlayFabResult<RefreshGameServerInstanceHeartbeatResult> privateRefreshGameServerInstanceHeartbeatAsync(final PlayFabInstanceAPI instance, final RefreshGameServerInstanceHeartbeatRequest request) throws Exception {
+        final PlayFabApiContext context = PlayFabInstanceAPI.contextOf(instance);
+        if (context.getDeveloperSecretKey() == null) throw new Exception ("Must have PlayFabSettings.DeveloperSecretKey set to call this method");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Server/RefreshGameServerInstanceHeartbeat"), request, "X-SecretKey", PlayFabSettings.DeveloperSecretKey);
+        FutureTask<Object> task = PlayFabHTTP.doPost(context.getURL("/Server/RefreshGameServerInstanceHeartbeat"), request, "X-SecretKey", context.getDeveloperSecretKey(), RefreshGameServerInstanceHeartbeatResult.class);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -5436,9 +5351,7 @@ public class PlayFabServerAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
-
-        PlayFabJsonSuccess<RefreshGameServerInstanceHeartbeatResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<RefreshGameServerInstanceHeartbeatResult>>(){}.getType());
+        PlayFabJsonSuccess<RefreshGameServerInstanceHeartbeatResult> resultData = (PlayFabJsonSuccess<RefreshGameServerInstanceHeartbeatResult>) httpResult;
         RefreshGameServerInstanceHeartbeatResult result = resultData.data;
 
         PlayFabResult<RefreshGameServerInstanceHeartbeatResult> pfResult = new PlayFabResult<RefreshGameServerInstanceHeartbeatResult>();
@@ -5455,7 +5368,7 @@ public class PlayFabServerAPI {
     public static FutureTask<PlayFabResult<RegisterGameResponse>> RegisterGameAsync(final RegisterGameRequest request) {
         return new FutureTask(new Callable<PlayFabResult<RegisterGameResponse>>() {
             public PlayFabResult<RegisterGameResponse> call() throws Exception {
-                return privateRegisterGameAsync(request);
+                return privateRegisterGameAsync(null, request);
             }
         });
     }
@@ -5469,7 +5382,7 @@ public class PlayFabServerAPI {
     public static PlayFabResult<RegisterGameResponse> RegisterGame(final RegisterGameRequest request) {
         FutureTask<PlayFabResult<RegisterGameResponse>> task = new FutureTask(new Callable<PlayFabResult<RegisterGameResponse>>() {
             public PlayFabResult<RegisterGameResponse> call() throws Exception {
-                return privateRegisterGameAsync(request);
+                return privateRegisterGameAsync(null, request);
             }
         });
         try {
@@ -5484,10 +5397,11 @@ public class PlayFabServerAPI {
 
     /** Inform the matchmaker that a new Game Server Instance is added. */
     @SuppressWarnings("unchecked")
-    private static PlayFabResult<RegisterGameResponse> privateRegisterGameAsync(final RegisterGameRequest request) throws Exception {
-        if (PlayFabSettings.DeveloperSecretKey == null) throw new Exception ("Must have PlayFabSettings.DeveloperSecretKey set to call this method");
+    static PlayFabResult<RegisterGameResponse> privateRegisterGameAsync(final PlayFabInstanceAPI instance, final RegisterGameRequest request) throws Exception {
+        final PlayFabApiContext context = PlayFabInstanceAPI.contextOf(instance);
+        if (context.getDeveloperSecretKey() == null) throw new Exception ("Must have PlayFabSettings.DeveloperSecretKey set to call this method");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Server/RegisterGame"), request, "X-SecretKey", PlayFabSettings.DeveloperSecretKey);
+        FutureTask<Object> task = PlayFabHTTP.doPost(context.getURL("/Server/RegisterGame"), request, "X-SecretKey", context.getDeveloperSecretKey(), RegisterGameResponse.class);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -5498,9 +5412,7 @@ public class PlayFabServerAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
-
-        PlayFabJsonSuccess<RegisterGameResponse> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<RegisterGameResponse>>(){}.getType());
+        PlayFabJsonSuccess<RegisterGameResponse> resultData = (PlayFabJsonSuccess<RegisterGameResponse>) httpResult;
         RegisterGameResponse result = resultData.data;
 
         PlayFabResult<RegisterGameResponse> pfResult = new PlayFabResult<RegisterGameResponse>();
@@ -5517,7 +5429,7 @@ public class PlayFabServerAPI {
     public static FutureTask<PlayFabResult<EmptyResponse>> RemoveFriendAsync(final RemoveFriendRequest request) {
         return new FutureTask(new Callable<PlayFabResult<EmptyResponse>>() {
             public PlayFabResult<EmptyResponse> call() throws Exception {
-                return privateRemoveFriendAsync(request);
+                return privateRemoveFriendAsync(null, request);
             }
         });
     }
@@ -5531,7 +5443,7 @@ public class PlayFabServerAPI {
     public static PlayFabResult<EmptyResponse> RemoveFriend(final RemoveFriendRequest request) {
         FutureTask<PlayFabResult<EmptyResponse>> task = new FutureTask(new Callable<PlayFabResult<EmptyResponse>>() {
             public PlayFabResult<EmptyResponse> call() throws Exception {
-                return privateRemoveFriendAsync(request);
+                return privateRemoveFriendAsync(null, request);
             }
         });
         try {
@@ -5546,10 +5458,11 @@ public class PlayFabServerAPI {
 
     /** Removes the specified friend from the the user's friend list */
     @SuppressWarnings("unchecked")
-    private static PlayFabResult<EmptyResponse> privateRemoveFriendAsync(final RemoveFriendRequest request) throws Exception {
-        if (PlayFabSettings.DeveloperSecretKey == null) throw new Exception ("Must have PlayFabSettings.DeveloperSecretKey set to call this method");
+    static PlayFabResult<EmptyResponse> privateRemoveFriendAsync(final PlayFabInstanceAPI instance, final RemoveFriendRequest request) throws Exception {
+        final PlayFabApiContext context = PlayFabInstanceAPI.contextOf(instance);
+        if (context.getDeveloperSecretKey() == null) throw new Exception ("Must have PlayFabSettings.DeveloperSecretKey set to call this method");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Server/RemoveFriend"), request, "X-SecretKey", PlayFabSettings.DeveloperSecretKey);
+        FutureTask<Object> task = PlayFabHTTP.doPost(context.getURL("/Server/RemoveFriend"), request, "X-SecretKey", context.getDeveloperSecretKey(), EmptyResponse.class);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -5560,9 +5473,7 @@ public class PlayFabServerAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
-
-        PlayFabJsonSuccess<EmptyResponse> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<EmptyResponse>>(){}.getType());
+        PlayFabJsonSuccess<EmptyResponse> resultData = (PlayFabJsonSuccess<EmptyResponse>) httpResult;
         EmptyResponse result = resultData.data;
 
         PlayFabResult<EmptyResponse> pfResult = new PlayFabResult<EmptyResponse>();
@@ -5579,7 +5490,7 @@ public class PlayFabServerAPI {
     public static FutureTask<PlayFabResult<EmptyResult>> RemoveGenericIDAsync(final RemoveGenericIDRequest request) {
         return new FutureTask(new Callable<PlayFabResult<EmptyResult>>() {
             public PlayFabResult<EmptyResult> call() throws Exception {
-                return privateRemoveGenericIDAsync(request);
+                return privateRemoveGenericIDAsync(null, request);
             }
         });
     }
@@ -5593,7 +5504,7 @@ public class PlayFabServerAPI {
     public static PlayFabResult<EmptyResult> RemoveGenericID(final RemoveGenericIDRequest request) {
         FutureTask<PlayFabResult<EmptyResult>> task = new FutureTask(new Callable<PlayFabResult<EmptyResult>>() {
             public PlayFabResult<EmptyResult> call() throws Exception {
-                return privateRemoveGenericIDAsync(request);
+                return privateRemoveGenericIDAsync(null, request);
             }
         });
         try {
@@ -5608,10 +5519,11 @@ public class PlayFabServerAPI {
 
     /** Removes the specified generic service identifier from the player's PlayFab account. */
     @SuppressWarnings("unchecked")
-    private static PlayFabResult<EmptyResult> privateRemoveGenericIDAsync(final RemoveGenericIDRequest request) throws Exception {
-        if (PlayFabSettings.DeveloperSecretKey == null) throw new Exception ("Must have PlayFabSettings.DeveloperSecretKey set to call this method");
+    static PlayFabResult<EmptyResult> privateRemoveGenericIDAsync(final PlayFabInstanceAPI instance, final RemoveGenericIDRequest request) throws Exception {
+        final PlayFabApiContext context = PlayFabInstanceAPI.contextOf(instance);
+        if (context.getDeveloperSecretKey() == null) throw new Exception ("Must have PlayFabSettings.DeveloperSecretKey set to call this method");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Server/RemoveGenericID"), request, "X-SecretKey", PlayFabSettings.DeveloperSecretKey);
+        FutureTask<Object> task = PlayFabHTTP.doPost(context.getURL("/Server/RemoveGenericID"), request, "X-SecretKey", context.getDeveloperSecretKey(), EmptyResult.class);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -5622,9 +5534,7 @@ public class PlayFabServerAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
-
-        PlayFabJsonSuccess<EmptyResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<EmptyResult>>(){}.getType());
+        PlayFabJsonSuccess<EmptyResult> resultData = (PlayFabJsonSuccess<EmptyResult>) httpResult;
         EmptyResult result = resultData.data;
 
         PlayFabResult<EmptyResult> pfResult = new PlayFabResult<EmptyResult>();
@@ -5641,7 +5551,7 @@ public class PlayFabServerAPI {
     public static FutureTask<PlayFabResult<RemovePlayerTagResult>> RemovePlayerTagAsync(final RemovePlayerTagRequest request) {
         return new FutureTask(new Callable<PlayFabResult<RemovePlayerTagResult>>() {
             public PlayFabResult<RemovePlayerTagResult> call() throws Exception {
-                return privateRemovePlayerTagAsync(request);
+                return privateRemovePlayerTagAsync(null, request);
             }
         });
     }
@@ -5655,7 +5565,7 @@ public class PlayFabServerAPI {
     public static PlayFabResult<RemovePlayerTagResult> RemovePlayerTag(final RemovePlayerTagRequest request) {
         FutureTask<PlayFabResult<RemovePlayerTagResult>> task = new FutureTask(new Callable<PlayFabResult<RemovePlayerTagResult>>() {
             public PlayFabResult<RemovePlayerTagResult> call() throws Exception {
-                return privateRemovePlayerTagAsync(request);
+                return privateRemovePlayerTagAsync(null, request);
             }
         });
         try {
@@ -5670,10 +5580,11 @@ public class PlayFabServerAPI {
 
     /** Remove a given tag from a player profile. The tag's namespace is automatically generated based on the source of the tag. */
     @SuppressWarnings("unchecked")
-    private static PlayFabResult<RemovePlayerTagResult> privateRemovePlayerTagAsync(final RemovePlayerTagRequest request) throws Exception {
-        if (PlayFabSettings.DeveloperSecretKey == null) throw new Exception ("Must have PlayFabSettings.DeveloperSecretKey set to call this method");
+    static PlayFabResult<RemovePlayerTagResult> privateRemovePlayerTagAsync(final PlayFabInstanceAPI instance, final RemovePlayerTagRequest request) throws Exception {
+        final PlayFabApiContext context = PlayFabInstanceAPI.contextOf(instance);
+        if (context.getDeveloperSecretKey() == null) throw new Exception ("Must have PlayFabSettings.DeveloperSecretKey set to call this method");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Server/RemovePlayerTag"), request, "X-SecretKey", PlayFabSettings.DeveloperSecretKey);
+        FutureTask<Object> task = PlayFabHTTP.doPost(context.getURL("/Server/RemovePlayerTag"), request, "X-SecretKey", context.getDeveloperSecretKey(), RemovePlayerTagResult.class);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -5684,9 +5595,7 @@ public class PlayFabServerAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
-
-        PlayFabJsonSuccess<RemovePlayerTagResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<RemovePlayerTagResult>>(){}.getType());
+        PlayFabJsonSuccess<RemovePlayerTagResult> resultData = (PlayFabJsonSuccess<RemovePlayerTagResult>) httpResult;
         RemovePlayerTagResult result = resultData.data;
 
         PlayFabResult<RemovePlayerTagResult> pfResult = new PlayFabResult<RemovePlayerTagResult>();
@@ -5706,7 +5615,7 @@ public class PlayFabServerAPI {
     public static FutureTask<PlayFabResult<RemoveSharedGroupMembersResult>> RemoveSharedGroupMembersAsync(final RemoveSharedGroupMembersRequest request) {
         return new FutureTask(new Callable<PlayFabResult<RemoveSharedGroupMembersResult>>() {
             public PlayFabResult<RemoveSharedGroupMembersResult> call() throws Exception {
-                return privateRemoveSharedGroupMembersAsync(request);
+                return privateRemoveSharedGroupMembersAsync(null, request);
             }
         });
     }
@@ -5723,7 +5632,7 @@ public class PlayFabServerAPI {
     public static PlayFabResult<RemoveSharedGroupMembersResult> RemoveSharedGroupMembers(final RemoveSharedGroupMembersRequest request) {
         FutureTask<PlayFabResult<RemoveSharedGroupMembersResult>> task = new FutureTask(new Callable<PlayFabResult<RemoveSharedGroupMembersResult>>() {
             public PlayFabResult<RemoveSharedGroupMembersResult> call() throws Exception {
-                return privateRemoveSharedGroupMembersAsync(request);
+                return privateRemoveSharedGroupMembersAsync(null, request);
             }
         });
         try {
@@ -5743,10 +5652,11 @@ public class PlayFabServerAPI {
      * guide: https://docs.microsoft.com/gaming/playfab/features/social/groups/using-shared-group-data
      */
     @SuppressWarnings("unchecked")
-    private static PlayFabResult<RemoveSharedGroupMembersResult> privateRemoveSharedGroupMembersAsync(final RemoveSharedGroupMembersRequest request) throws Exception {
-        if (PlayFabSettings.DeveloperSecretKey == null) throw new Exception ("Must have PlayFabSettings.DeveloperSecretKey set to call this method");
+    static PlayFabResult<RemoveSharedGroupMembersResult> privateRemoveSharedGroupMembersAsync(final PlayFabInstanceAPI instance, final RemoveSharedGroupMembersRequest request) throws Exception {
+        final PlayFabApiContext context = PlayFabInstanceAPI.contextOf(instance);
+        if (context.getDeveloperSecretKey() == null) throw new Exception ("Must have PlayFabSettings.DeveloperSecretKey set to call this method");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Server/RemoveSharedGroupMembers"), request, "X-SecretKey", PlayFabSettings.DeveloperSecretKey);
+        FutureTask<Object> task = PlayFabHTTP.doPost(context.getURL("/Server/RemoveSharedGroupMembers"), request, "X-SecretKey", context.getDeveloperSecretKey(), RemoveSharedGroupMembersResult.class);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -5757,9 +5667,7 @@ public class PlayFabServerAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
-
-        PlayFabJsonSuccess<RemoveSharedGroupMembersResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<RemoveSharedGroupMembersResult>>(){}.getType());
+        PlayFabJsonSuccess<RemoveSharedGroupMembersResult> resultData = (PlayFabJsonSuccess<RemoveSharedGroupMembersResult>) httpResult;
         RemoveSharedGroupMembersResult result = resultData.data;
 
         PlayFabResult<RemoveSharedGroupMembersResult> pfResult = new PlayFabResult<RemoveSharedGroupMembersResult>();
@@ -5777,7 +5685,7 @@ public class PlayFabServerAPI {
     public static FutureTask<PlayFabResult<ReportPlayerServerResult>> ReportPlayerAsync(final ReportPlayerServerRequest request) {
         return new FutureTask(new Callable<PlayFabResult<ReportPlayerServerResult>>() {
             public PlayFabResult<ReportPlayerServerResult> call() throws Exception {
-                return privateReportPlayerAsync(request);
+                return privateReportPlayerAsync(null, request);
             }
         });
     }
@@ -5792,7 +5700,7 @@ public class PlayFabServerAPI {
     public static PlayFabResult<ReportPlayerServerResult> ReportPlayer(final ReportPlayerServerRequest request) {
         FutureTask<PlayFabResult<ReportPlayerServerResult>> task = new FutureTask(new Callable<PlayFabResult<ReportPlayerServerResult>>() {
             public PlayFabResult<ReportPlayerServerResult> call() throws Exception {
-                return privateReportPlayerAsync(request);
+                return privateReportPlayerAsync(null, request);
             }
         });
         try {
@@ -5810,10 +5718,11 @@ public class PlayFabServerAPI {
      * representatives for the title can take action concerning potentially toxic players.
      */
     @SuppressWarnings("unchecked")
-    private static PlayFabResult<ReportPlayerServerResult> privateReportPlayerAsync(final ReportPlayerServerRequest request) throws Exception {
-        if (PlayFabSettings.DeveloperSecretKey == null) throw new Exception ("Must have PlayFabSettings.DeveloperSecretKey set to call this method");
+    static PlayFabResult<ReportPlayerServerResult> privateReportPlayerAsync(final PlayFabInstanceAPI instance, final ReportPlayerServerRequest request) throws Exception {
+        final PlayFabApiContext context = PlayFabInstanceAPI.contextOf(instance);
+        if (context.getDeveloperSecretKey() == null) throw new Exception ("Must have PlayFabSettings.DeveloperSecretKey set to call this method");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Server/ReportPlayer"), request, "X-SecretKey", PlayFabSettings.DeveloperSecretKey);
+        FutureTask<Object> task = PlayFabHTTP.doPost(context.getURL("/Server/ReportPlayer"), request, "X-SecretKey", context.getDeveloperSecretKey(), ReportPlayerServerResult.class);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -5824,9 +5733,7 @@ public class PlayFabServerAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
-
-        PlayFabJsonSuccess<ReportPlayerServerResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<ReportPlayerServerResult>>(){}.getType());
+        PlayFabJsonSuccess<ReportPlayerServerResult> resultData = (PlayFabJsonSuccess<ReportPlayerServerResult>) httpResult;
         ReportPlayerServerResult result = resultData.data;
 
         PlayFabResult<ReportPlayerServerResult> pfResult = new PlayFabResult<ReportPlayerServerResult>();
@@ -5843,7 +5750,7 @@ public class PlayFabServerAPI {
     public static FutureTask<PlayFabResult<RevokeAllBansForUserResult>> RevokeAllBansForUserAsync(final RevokeAllBansForUserRequest request) {
         return new FutureTask(new Callable<PlayFabResult<RevokeAllBansForUserResult>>() {
             public PlayFabResult<RevokeAllBansForUserResult> call() throws Exception {
-                return privateRevokeAllBansForUserAsync(request);
+                return privateRevokeAllBansForUserAsync(null, request);
             }
         });
     }
@@ -5857,7 +5764,7 @@ public class PlayFabServerAPI {
     public static PlayFabResult<RevokeAllBansForUserResult> RevokeAllBansForUser(final RevokeAllBansForUserRequest request) {
         FutureTask<PlayFabResult<RevokeAllBansForUserResult>> task = new FutureTask(new Callable<PlayFabResult<RevokeAllBansForUserResult>>() {
             public PlayFabResult<RevokeAllBansForUserResult> call() throws Exception {
-                return privateRevokeAllBansForUserAsync(request);
+                return privateRevokeAllBansForUserAsync(null, request);
             }
         });
         try {
@@ -5872,10 +5779,11 @@ public class PlayFabServerAPI {
 
     /** Revoke all active bans for a user. */
     @SuppressWarnings("unchecked")
-    private static PlayFabResult<RevokeAllBansForUserResult> privateRevokeAllBansForUserAsync(final RevokeAllBansForUserRequest request) throws Exception {
-        if (PlayFabSettings.DeveloperSecretKey == null) throw new Exception ("Must have PlayFabSettings.DeveloperSecretKey set to call this method");
+    static PlayFabResult<RevokeAllBansForUserResult> privateRevokeAllBansForUserAsync(final PlayFabInstanceAPI instance, final RevokeAllBansForUserRequest request) throws Exception {
+        final PlayFabApiContext context = PlayFabInstanceAPI.contextOf(instance);
+        if (context.getDeveloperSecretKey() == null) throw new Exception ("Must have PlayFabSettings.DeveloperSecretKey set to call this method");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Server/RevokeAllBansForUser"), request, "X-SecretKey", PlayFabSettings.DeveloperSecretKey);
+        FutureTask<Object> task = PlayFabHTTP.doPost(context.getURL("/Server/RevokeAllBansForUser"), request, "X-SecretKey", context.getDeveloperSecretKey(), RevokeAllBansForUserResult.class);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -5886,9 +5794,7 @@ public class PlayFabServerAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
-
-        PlayFabJsonSuccess<RevokeAllBansForUserResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<RevokeAllBansForUserResult>>(){}.getType());
+        PlayFabJsonSuccess<RevokeAllBansForUserResult> resultData = (PlayFabJsonSuccess<RevokeAllBansForUserResult>) httpResult;
         RevokeAllBansForUserResult result = resultData.data;
 
         PlayFabResult<RevokeAllBansForUserResult> pfResult = new PlayFabResult<RevokeAllBansForUserResult>();
@@ -5905,7 +5811,7 @@ public class PlayFabServerAPI {
     public static FutureTask<PlayFabResult<RevokeBansResult>> RevokeBansAsync(final RevokeBansRequest request) {
         return new FutureTask(new Callable<PlayFabResult<RevokeBansResult>>() {
             public PlayFabResult<RevokeBansResult> call() throws Exception {
-                return privateRevokeBansAsync(request);
+                return privateRevokeBansAsync(null, request);
             }
         });
     }
@@ -5919,7 +5825,7 @@ public class PlayFabServerAPI {
     public static PlayFabResult<RevokeBansResult> RevokeBans(final RevokeBansRequest request) {
         FutureTask<PlayFabResult<RevokeBansResult>> task = new FutureTask(new Callable<PlayFabResult<RevokeBansResult>>() {
             public PlayFabResult<RevokeBansResult> call() throws Exception {
-                return privateRevokeBansAsync(request);
+                return privateRevokeBansAsync(null, request);
             }
         });
         try {
@@ -5934,10 +5840,11 @@ public class PlayFabServerAPI {
 
     /** Revoke all active bans specified with BanId. */
     @SuppressWarnings("unchecked")
-    private static PlayFabResult<RevokeBansResult> privateRevokeBansAsync(final RevokeBansRequest request) throws Exception {
-        if (PlayFabSettings.DeveloperSecretKey == null) throw new Exception ("Must have PlayFabSettings.DeveloperSecretKey set to call this method");
+    static PlayFabResult<RevokeBansResult> privateRevokeBansAsync(final PlayFabInstanceAPI instance, final RevokeBansRequest request) throws Exception {
+        final PlayFabApiContext context = PlayFabInstanceAPI.contextOf(instance);
+        if (context.getDeveloperSecretKey() == null) throw new Exception ("Must have PlayFabSettings.DeveloperSecretKey set to call this method");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Server/RevokeBans"), request, "X-SecretKey", PlayFabSettings.DeveloperSecretKey);
+        FutureTask<Object> task = PlayFabHTTP.doPost(context.getURL("/Server/RevokeBans"), request, "X-SecretKey", context.getDeveloperSecretKey(), RevokeBansResult.class);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -5948,9 +5855,7 @@ public class PlayFabServerAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
-
-        PlayFabJsonSuccess<RevokeBansResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<RevokeBansResult>>(){}.getType());
+        PlayFabJsonSuccess<RevokeBansResult> resultData = (PlayFabJsonSuccess<RevokeBansResult>) httpResult;
         RevokeBansResult result = resultData.data;
 
         PlayFabResult<RevokeBansResult> pfResult = new PlayFabResult<RevokeBansResult>();
@@ -5967,7 +5872,7 @@ public class PlayFabServerAPI {
     public static FutureTask<PlayFabResult<RevokeInventoryResult>> RevokeInventoryItemAsync(final RevokeInventoryItemRequest request) {
         return new FutureTask(new Callable<PlayFabResult<RevokeInventoryResult>>() {
             public PlayFabResult<RevokeInventoryResult> call() throws Exception {
-                return privateRevokeInventoryItemAsync(request);
+                return privateRevokeInventoryItemAsync(null, request);
             }
         });
     }
@@ -5981,7 +5886,7 @@ public class PlayFabServerAPI {
     public static PlayFabResult<RevokeInventoryResult> RevokeInventoryItem(final RevokeInventoryItemRequest request) {
         FutureTask<PlayFabResult<RevokeInventoryResult>> task = new FutureTask(new Callable<PlayFabResult<RevokeInventoryResult>>() {
             public PlayFabResult<RevokeInventoryResult> call() throws Exception {
-                return privateRevokeInventoryItemAsync(request);
+                return privateRevokeInventoryItemAsync(null, request);
             }
         });
         try {
@@ -5996,10 +5901,11 @@ public class PlayFabServerAPI {
 
     /** Revokes access to an item in a user's inventory */
     @SuppressWarnings("unchecked")
-    private static PlayFabResult<RevokeInventoryResult> privateRevokeInventoryItemAsync(final RevokeInventoryItemRequest request) throws Exception {
-        if (PlayFabSettings.DeveloperSecretKey == null) throw new Exception ("Must have PlayFabSettings.DeveloperSecretKey set to call this method");
+    static PlayFabResult<RevokeInventoryResult> privateRevokeInventoryItemAsync(final PlayFabInstanceAPI instance, final RevokeInventoryItemRequest request) throws Exception {
+        final PlayFabApiContext context = PlayFabInstanceAPI.contextOf(instance);
+        if (context.getDeveloperSecretKey() == null) throw new Exception ("Must have PlayFabSettings.DeveloperSecretKey set to call this method");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Server/RevokeInventoryItem"), request, "X-SecretKey", PlayFabSettings.DeveloperSecretKey);
+        FutureTask<Object> task = PlayFabHTTP.doPost(context.getURL("/Server/RevokeInventoryItem"), request, "X-SecretKey", context.getDeveloperSecretKey(), RevokeInventoryResult.class);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -6010,9 +5916,7 @@ public class PlayFabServerAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
-
-        PlayFabJsonSuccess<RevokeInventoryResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<RevokeInventoryResult>>(){}.getType());
+        PlayFabJsonSuccess<RevokeInventoryResult> resultData = (PlayFabJsonSuccess<RevokeInventoryResult>) httpResult;
         RevokeInventoryResult result = resultData.data;
 
         PlayFabResult<RevokeInventoryResult> pfResult = new PlayFabResult<RevokeInventoryResult>();
@@ -6029,7 +5933,7 @@ public class PlayFabServerAPI {
     public static FutureTask<PlayFabResult<RevokeInventoryItemsResult>> RevokeInventoryItemsAsync(final RevokeInventoryItemsRequest request) {
         return new FutureTask(new Callable<PlayFabResult<RevokeInventoryItemsResult>>() {
             public PlayFabResult<RevokeInventoryItemsResult> call() throws Exception {
-                return privateRevokeInventoryItemsAsync(request);
+                return privateRevokeInventoryItemsAsync(null, request);
             }
         });
     }
@@ -6043,7 +5947,7 @@ public class PlayFabServerAPI {
     public static PlayFabResult<RevokeInventoryItemsResult> RevokeInventoryItems(final RevokeInventoryItemsRequest request) {
         FutureTask<PlayFabResult<RevokeInventoryItemsResult>> task = new FutureTask(new Callable<PlayFabResult<RevokeInventoryItemsResult>>() {
             public PlayFabResult<RevokeInventoryItemsResult> call() throws Exception {
-                return privateRevokeInventoryItemsAsync(request);
+                return privateRevokeInventoryItemsAsync(null, request);
             }
         });
         try {
@@ -6058,10 +5962,11 @@ public class PlayFabServerAPI {
 
     /** Revokes access for up to 25 items across multiple users and characters. */
     @SuppressWarnings("unchecked")
-    private static PlayFabResult<RevokeInventoryItemsResult> privateRevokeInventoryItemsAsync(final RevokeInventoryItemsRequest request) throws Exception {
-        if (PlayFabSettings.DeveloperSecretKey == null) throw new Exception ("Must have PlayFabSettings.DeveloperSecretKey set to call this method");
+    static PlayFabResult<RevokeInventoryItemsResult> privateRevokeInventoryItemsAsync(final PlayFabInstanceAPI instance, final RevokeInventoryItemsRequest request) throws Exception {
+        final PlayFabApiContext context = PlayFabInstanceAPI.contextOf(instance);
+        if (context.getDeveloperSecretKey() == null) throw new Exception ("Must have PlayFabSettings.DeveloperSecretKey set to call this method");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Server/RevokeInventoryItems"), request, "X-SecretKey", PlayFabSettings.DeveloperSecretKey);
+        FutureTask<Object> task = PlayFabHTTP.doPost(context.getURL("/Server/RevokeInventoryItems"), request, "X-SecretKey", context.getDeveloperSecretKey(), RevokeInventoryItemsResult.class);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -6072,9 +5977,7 @@ public class PlayFabServerAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
-
-        PlayFabJsonSuccess<RevokeInventoryItemsResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<RevokeInventoryItemsResult>>(){}.getType());
+        PlayFabJsonSuccess<RevokeInventoryItemsResult> resultData = (PlayFabJsonSuccess<RevokeInventoryItemsResult>) httpResult;
         RevokeInventoryItemsResult result = resultData.data;
 
         PlayFabResult<RevokeInventoryItemsResult> pfResult = new PlayFabResult<RevokeInventoryItemsResult>();
@@ -6091,7 +5994,7 @@ public class PlayFabServerAPI {
     public static FutureTask<PlayFabResult<SavePushNotificationTemplateResult>> SavePushNotificationTemplateAsync(final SavePushNotificationTemplateRequest request) {
         return new FutureTask(new Callable<PlayFabResult<SavePushNotificationTemplateResult>>() {
             public PlayFabResult<SavePushNotificationTemplateResult> call() throws Exception {
-                return privateSavePushNotificationTemplateAsync(request);
+                return privateSavePushNotificationTemplateAsync(null, request);
             }
         });
     }
@@ -6105,7 +6008,7 @@ public class PlayFabServerAPI {
     public static PlayFabResult<SavePushNotificationTemplateResult> SavePushNotificationTemplate(final SavePushNotificationTemplateRequest request) {
         FutureTask<PlayFabResult<SavePushNotificationTemplateResult>> task = new FutureTask(new Callable<PlayFabResult<SavePushNotificationTemplateResult>>() {
             public PlayFabResult<SavePushNotificationTemplateResult> call() throws Exception {
-                return privateSavePushNotificationTemplateAsync(request);
+                return privateSavePushNotificationTemplateAsync(null, request);
             }
         });
         try {
@@ -6120,10 +6023,11 @@ public class PlayFabServerAPI {
 
     /** Saves push notification template for title */
     @SuppressWarnings("unchecked")
-    private static PlayFabResult<SavePushNotificationTemplateResult> privateSavePushNotificationTemplateAsync(final SavePushNotificationTemplateRequest request) throws Exception {
-        if (PlayFabSettings.DeveloperSecretKey == null) throw new Exception ("Must have PlayFabSettings.DeveloperSecretKey set to call this method");
+    static PlayFabResult<SavePushNotificationTemplateResult> privateSavePushNotificationTemplateAsync(final PlayFabInstanceAPI instance, final SavePushNotificationTemplateRequest request) throws Exception {
+        final PlayFabApiContext context = PlayFabInstanceAPI.contextOf(instance);
+        if (context.getDeveloperSecretKey() == null) throw new Exception ("Must have PlayFabSettings.DeveloperSecretKey set to call this method");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Server/SavePushNotificationTemplate"), request, "X-SecretKey", PlayFabSettings.DeveloperSecretKey);
+        FutureTask<Object> task = PlayFabHTTP.doPost(context.getURL("/Server/SavePushNotificationTemplate"), request, "X-SecretKey", context.getDeveloperSecretKey(), SavePushNotificationTemplateResult.class);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -6134,9 +6038,7 @@ public class PlayFabServerAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
-
-        PlayFabJsonSuccess<SavePushNotificationTemplateResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<SavePushNotificationTemplateResult>>(){}.getType());
+        PlayFabJsonSuccess<SavePushNotificationTemplateResult> resultData = (PlayFabJsonSuccess<SavePushNotificationTemplateResult>) httpResult;
         SavePushNotificationTemplateResult result = resultData.data;
 
         PlayFabResult<SavePushNotificationTemplateResult> pfResult = new PlayFabResult<SavePushNotificationTemplateResult>();
@@ -6154,7 +6056,7 @@ public class PlayFabServerAPI {
     public static FutureTask<PlayFabResult<SendCustomAccountRecoveryEmailResult>> SendCustomAccountRecoveryEmailAsync(final SendCustomAccountRecoveryEmailRequest request) {
         return new FutureTask(new Callable<PlayFabResult<SendCustomAccountRecoveryEmailResult>>() {
             public PlayFabResult<SendCustomAccountRecoveryEmailResult> call() throws Exception {
-                return privateSendCustomAccountRecoveryEmailAsync(request);
+                return privateSendCustomAccountRecoveryEmailAsync(null, request);
             }
         });
     }
@@ -6169,7 +6071,7 @@ public class PlayFabServerAPI {
     public static PlayFabResult<SendCustomAccountRecoveryEmailResult> SendCustomAccountRecoveryEmail(final SendCustomAccountRecoveryEmailRequest request) {
         FutureTask<PlayFabResult<SendCustomAccountRecoveryEmailResult>> task = new FutureTask(new Callable<PlayFabResult<SendCustomAccountRecoveryEmailResult>>() {
             public PlayFabResult<SendCustomAccountRecoveryEmailResult> call() throws Exception {
-                return privateSendCustomAccountRecoveryEmailAsync(request);
+                return privateSendCustomAccountRecoveryEmailAsync(null, request);
             }
         });
         try {
@@ -6187,10 +6089,11 @@ public class PlayFabServerAPI {
      * email template
      */
     @SuppressWarnings("unchecked")
-    private static PlayFabResult<SendCustomAccountRecoveryEmailResult> privateSendCustomAccountRecoveryEmailAsync(final SendCustomAccountRecoveryEmailRequest request) throws Exception {
-        if (PlayFabSettings.DeveloperSecretKey == null) throw new Exception ("Must have PlayFabSettings.DeveloperSecretKey set to call this method");
+    static PlayFabResult<SendCustomAccountRecoveryEmailResult> privateSendCustomAccountRecoveryEmailAsync(final PlayFabInstanceAPI instance, final SendCustomAccountRecoveryEmailRequest request) throws Exception {
+        final PlayFabApiContext context = PlayFabInstanceAPI.contextOf(instance);
+        if (context.getDeveloperSecretKey() == null) throw new Exception ("Must have PlayFabSettings.DeveloperSecretKey set to call this method");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Server/SendCustomAccountRecoveryEmail"), request, "X-SecretKey", PlayFabSettings.DeveloperSecretKey);
+        FutureTask<Object> task = PlayFabHTTP.doPost(context.getURL("/Server/SendCustomAccountRecoveryEmail"), request, "X-SecretKey", context.getDeveloperSecretKey(), SendCustomAccountRecoveryEmailResult.class);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -6201,9 +6104,7 @@ public class PlayFabServerAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
-
-        PlayFabJsonSuccess<SendCustomAccountRecoveryEmailResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<SendCustomAccountRecoveryEmailResult>>(){}.getType());
+        PlayFabJsonSuccess<SendCustomAccountRecoveryEmailResult> resultData = (PlayFabJsonSuccess<SendCustomAccountRecoveryEmailResult>) httpResult;
         SendCustomAccountRecoveryEmailResult result = resultData.data;
 
         PlayFabResult<SendCustomAccountRecoveryEmailResult> pfResult = new PlayFabResult<SendCustomAccountRecoveryEmailResult>();
@@ -6220,7 +6121,7 @@ public class PlayFabServerAPI {
     public static FutureTask<PlayFabResult<SendEmailFromTemplateResult>> SendEmailFromTemplateAsync(final SendEmailFromTemplateRequest request) {
         return new FutureTask(new Callable<PlayFabResult<SendEmailFromTemplateResult>>() {
             public PlayFabResult<SendEmailFromTemplateResult> call() throws Exception {
-                return privateSendEmailFromTemplateAsync(request);
+                return privateSendEmailFromTemplateAsync(null, request);
             }
         });
     }
@@ -6234,7 +6135,7 @@ public class PlayFabServerAPI {
     public static PlayFabResult<SendEmailFromTemplateResult> SendEmailFromTemplate(final SendEmailFromTemplateRequest request) {
         FutureTask<PlayFabResult<SendEmailFromTemplateResult>> task = new FutureTask(new Callable<PlayFabResult<SendEmailFromTemplateResult>>() {
             public PlayFabResult<SendEmailFromTemplateResult> call() throws Exception {
-                return privateSendEmailFromTemplateAsync(request);
+                return privateSendEmailFromTemplateAsync(null, request);
             }
         });
         try {
@@ -6249,10 +6150,11 @@ public class PlayFabServerAPI {
 
     /** Sends an email based on an email template to a player's contact email */
     @SuppressWarnings("unchecked")
-    private static PlayFabResult<SendEmailFromTemplateResult> privateSendEmailFromTemplateAsync(final SendEmailFromTemplateRequest request) throws Exception {
-        if (PlayFabSettings.DeveloperSecretKey == null) throw new Exception ("Must have PlayFabSettings.DeveloperSecretKey set to call this method");
+    static PlayFabResult<SendEmailFromTemplateResult> privateSendEmailFromTemplateAsync(final PlayFabInstanceAPI instance, final SendEmailFromTemplateRequest request) throws Exception {
+        final PlayFabApiContext context = PlayFabInstanceAPI.contextOf(instance);
+        if (context.getDeveloperSecretKey() == null) throw new Exception ("Must have PlayFabSettings.DeveloperSecretKey set to call this method");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Server/SendEmailFromTemplate"), request, "X-SecretKey", PlayFabSettings.DeveloperSecretKey);
+        FutureTask<Object> task = PlayFabHTTP.doPost(context.getURL("/Server/SendEmailFromTemplate"), request, "X-SecretKey", context.getDeveloperSecretKey(), SendEmailFromTemplateResult.class);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -6263,9 +6165,7 @@ public class PlayFabServerAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
-
-        PlayFabJsonSuccess<SendEmailFromTemplateResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<SendEmailFromTemplateResult>>(){}.getType());
+        PlayFabJsonSuccess<SendEmailFromTemplateResult> resultData = (PlayFabJsonSuccess<SendEmailFromTemplateResult>) httpResult;
         SendEmailFromTemplateResult result = resultData.data;
 
         PlayFabResult<SendEmailFromTemplateResult> pfResult = new PlayFabResult<SendEmailFromTemplateResult>();
@@ -6283,7 +6183,7 @@ public class PlayFabServerAPI {
     public static FutureTask<PlayFabResult<SendPushNotificationResult>> SendPushNotificationAsync(final SendPushNotificationRequest request) {
         return new FutureTask(new Callable<PlayFabResult<SendPushNotificationResult>>() {
             public PlayFabResult<SendPushNotificationResult> call() throws Exception {
-                return privateSendPushNotificationAsync(request);
+                return privateSendPushNotificationAsync(null, request);
             }
         });
     }
@@ -6298,7 +6198,7 @@ public class PlayFabServerAPI {
     public static PlayFabResult<SendPushNotificationResult> SendPushNotification(final SendPushNotificationRequest request) {
         FutureTask<PlayFabResult<SendPushNotificationResult>> task = new FutureTask(new Callable<PlayFabResult<SendPushNotificationResult>>() {
             public PlayFabResult<SendPushNotificationResult> call() throws Exception {
-                return privateSendPushNotificationAsync(request);
+                return privateSendPushNotificationAsync(null, request);
             }
         });
         try {
@@ -6316,10 +6216,11 @@ public class PlayFabServerAPI {
      * Notifications in PlayFab. If a user has linked both Android and iOS devices, both will be notified.
      */
     @SuppressWarnings("unchecked")
-    private static PlayFabResult<SendPushNotificationResult> privateSendPushNotificationAsync(final SendPushNotificationRequest request) throws Exception {
-        if (PlayFabSettings.DeveloperSecretKey == null) throw new Exception ("Must have PlayFabSettings.DeveloperSecretKey set to call this method");
+    static PlayFabResult<SendPushNotificationResult> privateSendPushNotificationAsync(final PlayFabInstanceAPI instance, final SendPushNotificationRequest request) throws Exception {
+        final PlayFabApiContext context = PlayFabInstanceAPI.contextOf(instance);
+        if (context.getDeveloperSecretKey() == null) throw new Exception ("Must have PlayFabSettings.DeveloperSecretKey set to call this method");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Server/SendPushNotification"), request, "X-SecretKey", PlayFabSettings.DeveloperSecretKey);
+        FutureTask<Object> task = PlayFabHTTP.doPost(context.getURL("/Server/SendPushNotification"), request, "X-SecretKey", context.getDeveloperSecretKey(), SendPushNotificationResult.class);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -6330,9 +6231,7 @@ public class PlayFabServerAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
-
-        PlayFabJsonSuccess<SendPushNotificationResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<SendPushNotificationResult>>(){}.getType());
+        PlayFabJsonSuccess<SendPushNotificationResult> resultData = (PlayFabJsonSuccess<SendPushNotificationResult>) httpResult;
         SendPushNotificationResult result = resultData.data;
 
         PlayFabResult<SendPushNotificationResult> pfResult = new PlayFabResult<SendPushNotificationResult>();
@@ -6350,7 +6249,7 @@ public class PlayFabServerAPI {
     public static FutureTask<PlayFabResult<SendPushNotificationResult>> SendPushNotificationFromTemplateAsync(final SendPushNotificationFromTemplateRequest request) {
         return new FutureTask(new Callable<PlayFabResult<SendPushNotificationResult>>() {
             public PlayFabResult<SendPushNotificationResult> call() throws Exception {
-                return privateSendPushNotificationFromTemplateAsync(request);
+                return privateSendPushNotificationFromTemplateAsync(null, request);
             }
         });
     }
@@ -6365,7 +6264,7 @@ public class PlayFabServerAPI {
     public static PlayFabResult<SendPushNotificationResult> SendPushNotificationFromTemplate(final SendPushNotificationFromTemplateRequest request) {
         FutureTask<PlayFabResult<SendPushNotificationResult>> task = new FutureTask(new Callable<PlayFabResult<SendPushNotificationResult>>() {
             public PlayFabResult<SendPushNotificationResult> call() throws Exception {
-                return privateSendPushNotificationFromTemplateAsync(request);
+                return privateSendPushNotificationFromTemplateAsync(null, request);
             }
         });
         try {
@@ -6383,10 +6282,11 @@ public class PlayFabServerAPI {
      * Notifications in PlayFab. If a user has linked both Android and iOS devices, both will be notified.
      */
     @SuppressWarnings("unchecked")
-    private static PlayFabResult<SendPushNotificationResult> privateSendPushNotificationFromTemplateAsync(final SendPushNotificationFromTemplateRequest request) throws Exception {
-        if (PlayFabSettings.DeveloperSecretKey == null) throw new Exception ("Must have PlayFabSettings.DeveloperSecretKey set to call this method");
+    static PlayFabResult<SendPushNotificationResult> privateSendPushNotificationFromTemplateAsync(final PlayFabInstanceAPI instance, final SendPushNotificationFromTemplateRequest request) throws Exception {
+        final PlayFabApiContext context = PlayFabInstanceAPI.contextOf(instance);
+        if (context.getDeveloperSecretKey() == null) throw new Exception ("Must have PlayFabSettings.DeveloperSecretKey set to call this method");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Server/SendPushNotificationFromTemplate"), request, "X-SecretKey", PlayFabSettings.DeveloperSecretKey);
+        FutureTask<Object> task = PlayFabHTTP.doPost(context.getURL("/Server/SendPushNotificationFromTemplate"), request, "X-SecretKey", context.getDeveloperSecretKey(), SendPushNotificationResult.class);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -6397,9 +6297,7 @@ public class PlayFabServerAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
-
-        PlayFabJsonSuccess<SendPushNotificationResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<SendPushNotificationResult>>(){}.getType());
+        PlayFabJsonSuccess<SendPushNotificationResult> resultData = (PlayFabJsonSuccess<SendPushNotificationResult>) httpResult;
         SendPushNotificationResult result = resultData.data;
 
         PlayFabResult<SendPushNotificationResult> pfResult = new PlayFabResult<SendPushNotificationResult>();
@@ -6416,7 +6314,7 @@ public class PlayFabServerAPI {
     public static FutureTask<PlayFabResult<EmptyResponse>> SetFriendTagsAsync(final SetFriendTagsRequest request) {
         return new FutureTask(new Callable<PlayFabResult<EmptyResponse>>() {
             public PlayFabResult<EmptyResponse> call() throws Exception {
-                return privateSetFriendTagsAsync(request);
+                return privateSetFriendTagsAsync(null, request);
             }
         });
     }
@@ -6430,7 +6328,7 @@ public class PlayFabServerAPI {
     public static PlayFabResult<EmptyResponse> SetFriendTags(final SetFriendTagsRequest request) {
         FutureTask<PlayFabResult<EmptyResponse>> task = new FutureTask(new Callable<PlayFabResult<EmptyResponse>>() {
             public PlayFabResult<EmptyResponse> call() throws Exception {
-                return privateSetFriendTagsAsync(request);
+                return privateSetFriendTagsAsync(null, request);
             }
         });
         try {
@@ -6445,10 +6343,11 @@ public class PlayFabServerAPI {
 
     /** Updates the tag list for a specified user in the friend list of another user */
     @SuppressWarnings("unchecked")
-    private static PlayFabResult<EmptyResponse> privateSetFriendTagsAsync(final SetFriendTagsRequest request) throws Exception {
-        if (PlayFabSettings.DeveloperSecretKey == null) throw new Exception ("Must have PlayFabSettings.DeveloperSecretKey set to call this method");
+    static PlayFabResult<EmptyResponse> privateSetFriendTagsAsync(final PlayFabInstanceAPI instance, final SetFriendTagsRequest request) throws Exception {
+        final PlayFabApiContext context = PlayFabInstanceAPI.contextOf(instance);
+        if (context.getDeveloperSecretKey() == null) throw new Exception ("Must have PlayFabSettings.DeveloperSecretKey set to call this method");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Server/SetFriendTags"), request, "X-SecretKey", PlayFabSettings.DeveloperSecretKey);
+        FutureTask<Object> task = PlayFabHTTP.doPost(context.getURL("/Server/SetFriendTags"), request, "X-SecretKey", context.getDeveloperSecretKey(), EmptyResponse.class);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -6459,9 +6358,7 @@ public class PlayFabServerAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
-
-        PlayFabJsonSuccess<EmptyResponse> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<EmptyResponse>>(){}.getType());
+        PlayFabJsonSuccess<EmptyResponse> resultData = (PlayFabJsonSuccess<EmptyResponse>) httpResult;
         EmptyResponse result = resultData.data;
 
         PlayFabResult<EmptyResponse> pfResult = new PlayFabResult<EmptyResponse>();
@@ -6478,7 +6375,7 @@ public class PlayFabServerAPI {
     public static FutureTask<PlayFabResult<SetGameServerInstanceDataResult>> SetGameServerInstanceDataAsync(final SetGameServerInstanceDataRequest request) {
         return new FutureTask(new Callable<PlayFabResult<SetGameServerInstanceDataResult>>() {
             public PlayFabResult<SetGameServerInstanceDataResult> call() throws Exception {
-                return privateSetGameServerInstanceDataAsync(request);
+                return privateSetGameServerInstanceDataAsync(null, request);
             }
         });
     }
@@ -6492,7 +6389,7 @@ public class PlayFabServerAPI {
     public static PlayFabResult<SetGameServerInstanceDataResult> SetGameServerInstanceData(final SetGameServerInstanceDataRequest request) {
         FutureTask<PlayFabResult<SetGameServerInstanceDataResult>> task = new FutureTask(new Callable<PlayFabResult<SetGameServerInstanceDataResult>>() {
             public PlayFabResult<SetGameServerInstanceDataResult> call() throws Exception {
-                return privateSetGameServerInstanceDataAsync(request);
+                return privateSetGameServerInstanceDataAsync(null, request);
             }
         });
         try {
@@ -6507,10 +6404,11 @@ public class PlayFabServerAPI {
 
     /** Sets the custom data of the indicated Game Server Instance */
     @SuppressWarnings("unchecked")
-    private static PlayFabResult<SetGameServerInstanceDataResult> privateSetGameServerInstanceDataAsync(final SetGameServerInstanceDataRequest request) throws Exception {
-        if (PlayFabSettings.DeveloperSecretKey == null) throw new Exception ("Must have PlayFabSettings.DeveloperSecretKey set to call this method");
+    static PlayFabResult<SetGameServerInstanceDataResult> privateSetGameServerInstanceDataAsync(final PlayFabInstanceAPI instance, final SetGameServerInstanceDataRequest request) throws Exception {
+        final PlayFabApiContext context = PlayFabInstanceAPI.contextOf(instance);
+        if (context.getDeveloperSecretKey() == null) throw new Exception ("Must have PlayFabSettings.DeveloperSecretKey set to call this method");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Server/SetGameServerInstanceData"), request, "X-SecretKey", PlayFabSettings.DeveloperSecretKey);
+        FutureTask<Object> task = PlayFabHTTP.doPost(context.getURL("/Server/SetGameServerInstanceData"), request, "X-SecretKey", context.getDeveloperSecretKey(), SetGameServerInstanceDataResult.class);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -6521,9 +6419,7 @@ public class PlayFabServerAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
-
-        PlayFabJsonSuccess<SetGameServerInstanceDataResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<SetGameServerInstanceDataResult>>(){}.getType());
+        PlayFabJsonSuccess<SetGameServerInstanceDataResult> resultData = (PlayFabJsonSuccess<SetGameServerInstanceDataResult>) httpResult;
         SetGameServerInstanceDataResult result = resultData.data;
 
         PlayFabResult<SetGameServerInstanceDataResult> pfResult = new PlayFabResult<SetGameServerInstanceDataResult>();
@@ -6540,7 +6436,7 @@ public class PlayFabServerAPI {
     public static FutureTask<PlayFabResult<SetGameServerInstanceStateResult>> SetGameServerInstanceStateAsync(final SetGameServerInstanceStateRequest request) {
         return new FutureTask(new Callable<PlayFabResult<SetGameServerInstanceStateResult>>() {
             public PlayFabResult<SetGameServerInstanceStateResult> call() throws Exception {
-                return privateSetGameServerInstanceStateAsync(request);
+                return privateSetGameServerInstanceStateAsync(null, request);
             }
         });
     }
@@ -6554,7 +6450,7 @@ public class PlayFabServerAPI {
     public static PlayFabResult<SetGameServerInstanceStateResult> SetGameServerInstanceState(final SetGameServerInstanceStateRequest request) {
         FutureTask<PlayFabResult<SetGameServerInstanceStateResult>> task = new FutureTask(new Callable<PlayFabResult<SetGameServerInstanceStateResult>>() {
             public PlayFabResult<SetGameServerInstanceStateResult> call() throws Exception {
-                return privateSetGameServerInstanceStateAsync(request);
+                return privateSetGameServerInstanceStateAsync(null, request);
             }
         });
         try {
@@ -6569,10 +6465,11 @@ public class PlayFabServerAPI {
 
     /** Set the state of the indicated Game Server Instance. */
     @SuppressWarnings("unchecked")
-    private static PlayFabResult<SetGameServerInstanceStateResult> privateSetGameServerInstanceStateAsync(final SetGameServerInstanceStateRequest request) throws Exception {
-        if (PlayFabSettings.DeveloperSecretKey == null) throw new Exception ("Must have PlayFabSettings.DeveloperSecretKey set to call this method");
+    static PlayFabResult<SetGameServerInstanceStateResult> privateSetGameServerInstanceStateAsync(final PlayFabInstanceAPI instance, final SetGameServerInstanceStateRequest request) throws Exception {
+        final PlayFabApiContext context = PlayFabInstanceAPI.contextOf(instance);
+        if (context.getDeveloperSecretKey() == null) throw new Exception ("Must have PlayFabSettings.DeveloperSecretKey set to call this method");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Server/SetGameServerInstanceState"), request, "X-SecretKey", PlayFabSettings.DeveloperSecretKey);
+        FutureTask<Object> task = PlayFabHTTP.doPost(context.getURL("/Server/SetGameServerInstanceState"), request, "X-SecretKey", context.getDeveloperSecretKey(), SetGameServerInstanceStateResult.class);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -6583,9 +6480,7 @@ public class PlayFabServerAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
-
-        PlayFabJsonSuccess<SetGameServerInstanceStateResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<SetGameServerInstanceStateResult>>(){}.getType());
+        PlayFabJsonSuccess<SetGameServerInstanceStateResult> resultData = (PlayFabJsonSuccess<SetGameServerInstanceStateResult>) httpResult;
         SetGameServerInstanceStateResult result = resultData.data;
 
         PlayFabResult<SetGameServerInstanceStateResult> pfResult = new PlayFabResult<SetGameServerInstanceStateResult>();
@@ -6602,7 +6497,7 @@ public class PlayFabServerAPI {
     public static FutureTask<PlayFabResult<SetGameServerInstanceTagsResult>> SetGameServerInstanceTagsAsync(final SetGameServerInstanceTagsRequest request) {
         return new FutureTask(new Callable<PlayFabResult<SetGameServerInstanceTagsResult>>() {
             public PlayFabResult<SetGameServerInstanceTagsResult> call() throws Exception {
-                return privateSetGameServerInstanceTagsAsync(request);
+                return privateSetGameServerInstanceTagsAsync(null, request);
             }
         });
     }
@@ -6616,7 +6511,7 @@ public class PlayFabServerAPI {
     public static PlayFabResult<SetGameServerInstanceTagsResult> SetGameServerInstanceTags(final SetGameServerInstanceTagsRequest request) {
         FutureTask<PlayFabResult<SetGameServerInstanceTagsResult>> task = new FutureTask(new Callable<PlayFabResult<SetGameServerInstanceTagsResult>>() {
             public PlayFabResult<SetGameServerInstanceTagsResult> call() throws Exception {
-                return privateSetGameServerInstanceTagsAsync(request);
+                return privateSetGameServerInstanceTagsAsync(null, request);
             }
         });
         try {
@@ -6631,10 +6526,11 @@ public class PlayFabServerAPI {
 
     /** Set custom tags for the specified Game Server Instance */
     @SuppressWarnings("unchecked")
-    private static PlayFabResult<SetGameServerInstanceTagsResult> privateSetGameServerInstanceTagsAsync(final SetGameServerInstanceTagsRequest request) throws Exception {
-        if (PlayFabSettings.DeveloperSecretKey == null) throw new Exception ("Must have PlayFabSettings.DeveloperSecretKey set to call this method");
+    static PlayFabResult<SetGameServerInstanceTagsResult> privateSetGameServerInstanceTagsAsync(final PlayFabInstanceAPI instance, final SetGameServerInstanceTagsRequest request) throws Exception {
+        final PlayFabApiContext context = PlayFabInstanceAPI.contextOf(instance);
+        if (context.getDeveloperSecretKey() == null) throw new Exception ("Must have PlayFabSettings.DeveloperSecretKey set to call this method");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Server/SetGameServerInstanceTags"), request, "X-SecretKey", PlayFabSettings.DeveloperSecretKey);
+        FutureTask<Object> task = PlayFabHTTP.doPost(context.getURL("/Server/SetGameServerInstanceTags"), request, "X-SecretKey", context.getDeveloperSecretKey(), SetGameServerInstanceTagsResult.class);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -6645,9 +6541,7 @@ public class PlayFabServerAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
-
-        PlayFabJsonSuccess<SetGameServerInstanceTagsResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<SetGameServerInstanceTagsResult>>(){}.getType());
+        PlayFabJsonSuccess<SetGameServerInstanceTagsResult> resultData = (PlayFabJsonSuccess<SetGameServerInstanceTagsResult>) httpResult;
         SetGameServerInstanceTagsResult result = resultData.data;
 
         PlayFabResult<SetGameServerInstanceTagsResult> pfResult = new PlayFabResult<SetGameServerInstanceTagsResult>();
@@ -6665,7 +6559,7 @@ public class PlayFabServerAPI {
     public static FutureTask<PlayFabResult<SetPlayerSecretResult>> SetPlayerSecretAsync(final SetPlayerSecretRequest request) {
         return new FutureTask(new Callable<PlayFabResult<SetPlayerSecretResult>>() {
             public PlayFabResult<SetPlayerSecretResult> call() throws Exception {
-                return privateSetPlayerSecretAsync(request);
+                return privateSetPlayerSecretAsync(null, request);
             }
         });
     }
@@ -6680,7 +6574,7 @@ public class PlayFabServerAPI {
     public static PlayFabResult<SetPlayerSecretResult> SetPlayerSecret(final SetPlayerSecretRequest request) {
         FutureTask<PlayFabResult<SetPlayerSecretResult>> task = new FutureTask(new Callable<PlayFabResult<SetPlayerSecretResult>>() {
             public PlayFabResult<SetPlayerSecretResult> call() throws Exception {
-                return privateSetPlayerSecretAsync(request);
+                return privateSetPlayerSecretAsync(null, request);
             }
         });
         try {
@@ -6698,10 +6592,11 @@ public class PlayFabServerAPI {
      * secret use the Admin or Server API method SetPlayerSecret.
      */
     @SuppressWarnings("unchecked")
-    private static PlayFabResult<SetPlayerSecretResult> privateSetPlayerSecretAsync(final SetPlayerSecretRequest request) throws Exception {
-        if (PlayFabSettings.DeveloperSecretKey == null) throw new Exception ("Must have PlayFabSettings.DeveloperSecretKey set to call this method");
+    static PlayFabResult<SetPlayerSecretResult> privateSetPlayerSecretAsync(final PlayFabInstanceAPI instance, final SetPlayerSecretRequest request) throws Exception {
+        final PlayFabApiContext context = PlayFabInstanceAPI.contextOf(instance);
+        if (context.getDeveloperSecretKey() == null) throw new Exception ("Must have PlayFabSettings.DeveloperSecretKey set to call this method");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Server/SetPlayerSecret"), request, "X-SecretKey", PlayFabSettings.DeveloperSecretKey);
+        FutureTask<Object> task = PlayFabHTTP.doPost(context.getURL("/Server/SetPlayerSecret"), request, "X-SecretKey", context.getDeveloperSecretKey(), SetPlayerSecretResult.class);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -6712,9 +6607,7 @@ public class PlayFabServerAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
-
-        PlayFabJsonSuccess<SetPlayerSecretResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<SetPlayerSecretResult>>(){}.getType());
+        PlayFabJsonSuccess<SetPlayerSecretResult> resultData = (PlayFabJsonSuccess<SetPlayerSecretResult>) httpResult;
         SetPlayerSecretResult result = resultData.data;
 
         PlayFabResult<SetPlayerSecretResult> pfResult = new PlayFabResult<SetPlayerSecretResult>();
@@ -6731,7 +6624,7 @@ public class PlayFabServerAPI {
     public static FutureTask<PlayFabResult<SetPublisherDataResult>> SetPublisherDataAsync(final SetPublisherDataRequest request) {
         return new FutureTask(new Callable<PlayFabResult<SetPublisherDataResult>>() {
             public PlayFabResult<SetPublisherDataResult> call() throws Exception {
-                return privateSetPublisherDataAsync(request);
+                return privateSetPublisherDataAsync(null, request);
             }
         });
     }
@@ -6745,7 +6638,7 @@ public class PlayFabServerAPI {
     public static PlayFabResult<SetPublisherDataResult> SetPublisherData(final SetPublisherDataRequest request) {
         FutureTask<PlayFabResult<SetPublisherDataResult>> task = new FutureTask(new Callable<PlayFabResult<SetPublisherDataResult>>() {
             public PlayFabResult<SetPublisherDataResult> call() throws Exception {
-                return privateSetPublisherDataAsync(request);
+                return privateSetPublisherDataAsync(null, request);
             }
         });
         try {
@@ -6760,10 +6653,11 @@ public class PlayFabServerAPI {
 
     /** Updates the key-value store of custom publisher settings */
     @SuppressWarnings("unchecked")
-    private static PlayFabResult<SetPublisherDataResult> privateSetPublisherDataAsync(final SetPublisherDataRequest request) throws Exception {
-        if (PlayFabSettings.DeveloperSecretKey == null) throw new Exception ("Must have PlayFabSettings.DeveloperSecretKey set to call this method");
+    static PlayFabResult<SetPublisherDataResult> privateSetPublisherDataAsync(final PlayFabInstanceAPI instance, final SetPublisherDataRequest request) throws Exception {
+        final PlayFabApiContext context = PlayFabInstanceAPI.contextOf(instance);
+        if (context.getDeveloperSecretKey() == null) throw new Exception ("Must have PlayFabSettings.DeveloperSecretKey set to call this method");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Server/SetPublisherData"), request, "X-SecretKey", PlayFabSettings.DeveloperSecretKey);
+        FutureTask<Object> task = PlayFabHTTP.doPost(context.getURL("/Server/SetPublisherData"), request, "X-SecretKey", context.getDeveloperSecretKey(), SetPublisherDataResult.class);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -6774,9 +6668,7 @@ public class PlayFabServerAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
-
-        PlayFabJsonSuccess<SetPublisherDataResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<SetPublisherDataResult>>(){}.getType());
+        PlayFabJsonSuccess<SetPublisherDataResult> resultData = (PlayFabJsonSuccess<SetPublisherDataResult>) httpResult;
         SetPublisherDataResult result = resultData.data;
 
         PlayFabResult<SetPublisherDataResult> pfResult = new PlayFabResult<SetPublisherDataResult>();
@@ -6793,7 +6685,7 @@ public class PlayFabServerAPI {
     public static FutureTask<PlayFabResult<SetTitleDataResult>> SetTitleDataAsync(final SetTitleDataRequest request) {
         return new FutureTask(new Callable<PlayFabResult<SetTitleDataResult>>() {
             public PlayFabResult<SetTitleDataResult> call() throws Exception {
-                return privateSetTitleDataAsync(request);
+                return privateSetTitleDataAsync(null, request);
             }
         });
     }
@@ -6807,7 +6699,7 @@ public class PlayFabServerAPI {
     public static PlayFabResult<SetTitleDataResult> SetTitleData(final SetTitleDataRequest request) {
         FutureTask<PlayFabResult<SetTitleDataResult>> task = new FutureTask(new Callable<PlayFabResult<SetTitleDataResult>>() {
             public PlayFabResult<SetTitleDataResult> call() throws Exception {
-                return privateSetTitleDataAsync(request);
+                return privateSetTitleDataAsync(null, request);
             }
         });
         try {
@@ -6822,10 +6714,11 @@ public class PlayFabServerAPI {
 
     /** Updates the key-value store of custom title settings */
     @SuppressWarnings("unchecked")
-    private static PlayFabResult<SetTitleDataResult> privateSetTitleDataAsync(final SetTitleDataRequest request) throws Exception {
-        if (PlayFabSettings.DeveloperSecretKey == null) throw new Exception ("Must have PlayFabSettings.DeveloperSecretKey set to call this method");
+    static PlayFabResult<SetTitleDataResult> privateSetTitleDataAsync(final PlayFabInstanceAPI instance, final SetTitleDataRequest request) throws Exception {
+        final PlayFabApiContext context = PlayFabInstanceAPI.contextOf(instance);
+        if (context.getDeveloperSecretKey() == null) throw new Exception ("Must have PlayFabSettings.DeveloperSecretKey set to call this method");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Server/SetTitleData"), request, "X-SecretKey", PlayFabSettings.DeveloperSecretKey);
+        FutureTask<Object> task = PlayFabHTTP.doPost(context.getURL("/Server/SetTitleData"), request, "X-SecretKey", context.getDeveloperSecretKey(), SetTitleDataResult.class);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -6836,9 +6729,7 @@ public class PlayFabServerAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
-
-        PlayFabJsonSuccess<SetTitleDataResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<SetTitleDataResult>>(){}.getType());
+        PlayFabJsonSuccess<SetTitleDataResult> resultData = (PlayFabJsonSuccess<SetTitleDataResult>) httpResult;
         SetTitleDataResult result = resultData.data;
 
         PlayFabResult<SetTitleDataResult> pfResult = new PlayFabResult<SetTitleDataResult>();
@@ -6855,7 +6746,7 @@ public class PlayFabServerAPI {
     public static FutureTask<PlayFabResult<SetTitleDataResult>> SetTitleInternalDataAsync(final SetTitleDataRequest request) {
         return new FutureTask(new Callable<PlayFabResult<SetTitleDataResult>>() {
             public PlayFabResult<SetTitleDataResult> call() throws Exception {
-                return privateSetTitleInternalDataAsync(request);
+                return privateSetTitleInternalDataAsync(null, request);
             }
         });
     }
@@ -6869,7 +6760,7 @@ public class PlayFabServerAPI {
     public static PlayFabResult<SetTitleDataResult> SetTitleInternalData(final SetTitleDataRequest request) {
         FutureTask<PlayFabResult<SetTitleDataResult>> task = new FutureTask(new Callable<PlayFabResult<SetTitleDataResult>>() {
             public PlayFabResult<SetTitleDataResult> call() throws Exception {
-                return privateSetTitleInternalDataAsync(request);
+                return privateSetTitleInternalDataAsync(null, request);
             }
         });
         try {
@@ -6884,10 +6775,11 @@ public class PlayFabServerAPI {
 
     /** Updates the key-value store of custom title settings */
     @SuppressWarnings("unchecked")
-    private static PlayFabResult<SetTitleDataResult> privateSetTitleInternalDataAsync(final SetTitleDataRequest request) throws Exception {
-        if (PlayFabSettings.DeveloperSecretKey == null) throw new Exception ("Must have PlayFabSettings.DeveloperSecretKey set to call this method");
+    static PlayFabResult<SetTitleDataResult> privateSetTitleInternalDataAsync(final PlayFabInstanceAPI instance, final SetTitleDataRequest request) throws Exception {
+        final PlayFabApiContext context = PlayFabInstanceAPI.contextOf(instance);
+        if (context.getDeveloperSecretKey() == null) throw new Exception ("Must have PlayFabSettings.DeveloperSecretKey set to call this method");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Server/SetTitleInternalData"), request, "X-SecretKey", PlayFabSettings.DeveloperSecretKey);
+        FutureTask<Object> task = PlayFabHTTP.doPost(context.getURL("/Server/SetTitleInternalData"), request, "X-SecretKey", context.getDeveloperSecretKey(), SetTitleDataResult.class);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -6898,9 +6790,7 @@ public class PlayFabServerAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
-
-        PlayFabJsonSuccess<SetTitleDataResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<SetTitleDataResult>>(){}.getType());
+        PlayFabJsonSuccess<SetTitleDataResult> resultData = (PlayFabJsonSuccess<SetTitleDataResult>) httpResult;
         SetTitleDataResult result = resultData.data;
 
         PlayFabResult<SetTitleDataResult> pfResult = new PlayFabResult<SetTitleDataResult>();
@@ -6918,7 +6808,7 @@ public class PlayFabServerAPI {
     public static FutureTask<PlayFabResult<ModifyCharacterVirtualCurrencyResult>> SubtractCharacterVirtualCurrencyAsync(final SubtractCharacterVirtualCurrencyRequest request) {
         return new FutureTask(new Callable<PlayFabResult<ModifyCharacterVirtualCurrencyResult>>() {
             public PlayFabResult<ModifyCharacterVirtualCurrencyResult> call() throws Exception {
-                return privateSubtractCharacterVirtualCurrencyAsync(request);
+                return privateSubtractCharacterVirtualCurrencyAsync(null, request);
             }
         });
     }
@@ -6933,7 +6823,7 @@ public class PlayFabServerAPI {
     public static PlayFabResult<ModifyCharacterVirtualCurrencyResult> SubtractCharacterVirtualCurrency(final SubtractCharacterVirtualCurrencyRequest request) {
         FutureTask<PlayFabResult<ModifyCharacterVirtualCurrencyResult>> task = new FutureTask(new Callable<PlayFabResult<ModifyCharacterVirtualCurrencyResult>>() {
             public PlayFabResult<ModifyCharacterVirtualCurrencyResult> call() throws Exception {
-                return privateSubtractCharacterVirtualCurrencyAsync(request);
+                return privateSubtractCharacterVirtualCurrencyAsync(null, request);
             }
         });
         try {
@@ -6951,10 +6841,11 @@ public class PlayFabServerAPI {
      * balance negative with this API.
      */
     @SuppressWarnings("unchecked")
-    private static PlayFabResult<ModifyCharacterVirtualCurrencyResult> privateSubtractCharacterVirtualCurrencyAsync(final SubtractCharacterVirtualCurrencyRequest request) throws Exception {
-        if (PlayFabSettings.DeveloperSecretKey == null) throw new Exception ("Must have PlayFabSettings.DeveloperSecretKey set to call this method");
+    static PlayFabResult<ModifyCharacterVirtualCurrencyResult> privateSubtractCharacterVirtualCurrencyAsync(final PlayFabInstanceAPI instance, final SubtractCharacterVirtualCurrencyRequest request) throws Exception {
+        final PlayFabApiContext context = PlayFabInstanceAPI.contextOf(instance);
+        if (context.getDeveloperSecretKey() == null) throw new Exception ("Must have PlayFabSettings.DeveloperSecretKey set to call this method");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Server/SubtractCharacterVirtualCurrency"), request, "X-SecretKey", PlayFabSettings.DeveloperSecretKey);
+        FutureTask<Object> task = PlayFabHTTP.doPost(context.getURL("/Server/SubtractCharacterVirtualCurrency"), request, "X-SecretKey", context.getDeveloperSecretKey(), ModifyCharacterVirtualCurrencyResult.class);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -6965,9 +6856,7 @@ public class PlayFabServerAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
-
-        PlayFabJsonSuccess<ModifyCharacterVirtualCurrencyResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<ModifyCharacterVirtualCurrencyResult>>(){}.getType());
+        PlayFabJsonSuccess<ModifyCharacterVirtualCurrencyResult> resultData = (PlayFabJsonSuccess<ModifyCharacterVirtualCurrencyResult>) httpResult;
         ModifyCharacterVirtualCurrencyResult result = resultData.data;
 
         PlayFabResult<ModifyCharacterVirtualCurrencyResult> pfResult = new PlayFabResult<ModifyCharacterVirtualCurrencyResult>();
@@ -6985,7 +6874,7 @@ public class PlayFabServerAPI {
     public static FutureTask<PlayFabResult<ModifyUserVirtualCurrencyResult>> SubtractUserVirtualCurrencyAsync(final SubtractUserVirtualCurrencyRequest request) {
         return new FutureTask(new Callable<PlayFabResult<ModifyUserVirtualCurrencyResult>>() {
             public PlayFabResult<ModifyUserVirtualCurrencyResult> call() throws Exception {
-                return privateSubtractUserVirtualCurrencyAsync(request);
+                return privateSubtractUserVirtualCurrencyAsync(null, request);
             }
         });
     }
@@ -7000,7 +6889,7 @@ public class PlayFabServerAPI {
     public static PlayFabResult<ModifyUserVirtualCurrencyResult> SubtractUserVirtualCurrency(final SubtractUserVirtualCurrencyRequest request) {
         FutureTask<PlayFabResult<ModifyUserVirtualCurrencyResult>> task = new FutureTask(new Callable<PlayFabResult<ModifyUserVirtualCurrencyResult>>() {
             public PlayFabResult<ModifyUserVirtualCurrencyResult> call() throws Exception {
-                return privateSubtractUserVirtualCurrencyAsync(request);
+                return privateSubtractUserVirtualCurrencyAsync(null, request);
             }
         });
         try {
@@ -7018,10 +6907,11 @@ public class PlayFabServerAPI {
      * balance negative with this API.
      */
     @SuppressWarnings("unchecked")
-    private static PlayFabResult<ModifyUserVirtualCurrencyResult> privateSubtractUserVirtualCurrencyAsync(final SubtractUserVirtualCurrencyRequest request) throws Exception {
-        if (PlayFabSettings.DeveloperSecretKey == null) throw new Exception ("Must have PlayFabSettings.DeveloperSecretKey set to call this method");
+    static PlayFabResult<ModifyUserVirtualCurrencyResult> privateSubtractUserVirtualCurrencyAsync(final PlayFabInstanceAPI instance, final SubtractUserVirtualCurrencyRequest request) throws Exception {
+        final PlayFabApiContext context = PlayFabInstanceAPI.contextOf(instance);
+        if (context.getDeveloperSecretKey() == null) throw new Exception ("Must have PlayFabSettings.DeveloperSecretKey set to call this method");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Server/SubtractUserVirtualCurrency"), request, "X-SecretKey", PlayFabSettings.DeveloperSecretKey);
+        FutureTask<Object> task = PlayFabHTTP.doPost(context.getURL("/Server/SubtractUserVirtualCurrency"), request, "X-SecretKey", context.getDeveloperSecretKey(), ModifyUserVirtualCurrencyResult.class);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -7032,9 +6922,7 @@ public class PlayFabServerAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
-
-        PlayFabJsonSuccess<ModifyUserVirtualCurrencyResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<ModifyUserVirtualCurrencyResult>>(){}.getType());
+        PlayFabJsonSuccess<ModifyUserVirtualCurrencyResult> resultData = (PlayFabJsonSuccess<ModifyUserVirtualCurrencyResult>) httpResult;
         ModifyUserVirtualCurrencyResult result = resultData.data;
 
         PlayFabResult<ModifyUserVirtualCurrencyResult> pfResult = new PlayFabResult<ModifyUserVirtualCurrencyResult>();
@@ -7051,7 +6939,7 @@ public class PlayFabServerAPI {
     public static FutureTask<PlayFabResult<UnlinkPSNAccountResult>> UnlinkPSNAccountAsync(final UnlinkPSNAccountRequest request) {
         return new FutureTask(new Callable<PlayFabResult<UnlinkPSNAccountResult>>() {
             public PlayFabResult<UnlinkPSNAccountResult> call() throws Exception {
-                return privateUnlinkPSNAccountAsync(request);
+                return privateUnlinkPSNAccountAsync(null, request);
             }
         });
     }
@@ -7065,7 +6953,7 @@ public class PlayFabServerAPI {
     public static PlayFabResult<UnlinkPSNAccountResult> UnlinkPSNAccount(final UnlinkPSNAccountRequest request) {
         FutureTask<PlayFabResult<UnlinkPSNAccountResult>> task = new FutureTask(new Callable<PlayFabResult<UnlinkPSNAccountResult>>() {
             public PlayFabResult<UnlinkPSNAccountResult> call() throws Exception {
-                return privateUnlinkPSNAccountAsync(request);
+                return privateUnlinkPSNAccountAsync(null, request);
             }
         });
         try {
@@ -7080,10 +6968,11 @@ public class PlayFabServerAPI {
 
     /** Unlinks the related PSN account from the user's PlayFab account */
     @SuppressWarnings("unchecked")
-    private static PlayFabResult<UnlinkPSNAccountResult> privateUnlinkPSNAccountAsync(final UnlinkPSNAccountRequest request) throws Exception {
-        if (PlayFabSettings.DeveloperSecretKey == null) throw new Exception ("Must have PlayFabSettings.DeveloperSecretKey set to call this method");
+    static PlayFabResult<UnlinkPSNAccountResult> privateUnlinkPSNAccountAsync(final PlayFabInstanceAPI instance, final UnlinkPSNAccountRequest request) throws Exception {
+        final PlayFabApiContext context = PlayFabInstanceAPI.contextOf(instance);
+        if (context.getDeveloperSecretKey() == null) throw new Exception ("Must have PlayFabSettings.DeveloperSecretKey set to call this method");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Server/UnlinkPSNAccount"), request, "X-SecretKey", PlayFabSettings.DeveloperSecretKey);
+        FutureTask<Object> task = PlayFabHTTP.doPost(context.getURL("/Server/UnlinkPSNAccount"), request, "X-SecretKey", context.getDeveloperSecretKey(), UnlinkPSNAccountResult.class);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -7094,9 +6983,7 @@ public class PlayFabServerAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
-
-        PlayFabJsonSuccess<UnlinkPSNAccountResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<UnlinkPSNAccountResult>>(){}.getType());
+        PlayFabJsonSuccess<UnlinkPSNAccountResult> resultData = (PlayFabJsonSuccess<UnlinkPSNAccountResult>) httpResult;
         UnlinkPSNAccountResult result = resultData.data;
 
         PlayFabResult<UnlinkPSNAccountResult> pfResult = new PlayFabResult<UnlinkPSNAccountResult>();
@@ -7113,7 +7000,7 @@ public class PlayFabServerAPI {
     public static FutureTask<PlayFabResult<UnlinkServerCustomIdResult>> UnlinkServerCustomIdAsync(final UnlinkServerCustomIdRequest request) {
         return new FutureTask(new Callable<PlayFabResult<UnlinkServerCustomIdResult>>() {
             public PlayFabResult<UnlinkServerCustomIdResult> call() throws Exception {
-                return privateUnlinkServerCustomIdAsync(request);
+                return privateUnlinkServerCustomIdAsync(null, request);
             }
         });
     }
@@ -7127,7 +7014,7 @@ public class PlayFabServerAPI {
     public static PlayFabResult<UnlinkServerCustomIdResult> UnlinkServerCustomId(final UnlinkServerCustomIdRequest request) {
         FutureTask<PlayFabResult<UnlinkServerCustomIdResult>> task = new FutureTask(new Callable<PlayFabResult<UnlinkServerCustomIdResult>>() {
             public PlayFabResult<UnlinkServerCustomIdResult> call() throws Exception {
-                return privateUnlinkServerCustomIdAsync(request);
+                return privateUnlinkServerCustomIdAsync(null, request);
             }
         });
         try {
@@ -7142,10 +7029,11 @@ public class PlayFabServerAPI {
 
     /** Unlinks the custom server identifier from the user's PlayFab account. */
     @SuppressWarnings("unchecked")
-    private static PlayFabResult<UnlinkServerCustomIdResult> privateUnlinkServerCustomIdAsync(final UnlinkServerCustomIdRequest request) throws Exception {
-        if (PlayFabSettings.DeveloperSecretKey == null) throw new Exception ("Must have PlayFabSettings.DeveloperSecretKey set to call this method");
+    static PlayFabResult<UnlinkServerCustomIdResult> privateUnlinkServerCustomIdAsync(final PlayFabInstanceAPI instance, final UnlinkServerCustomIdRequest request) throws Exception {
+        final PlayFabApiContext context = PlayFabInstanceAPI.contextOf(instance);
+        if (context.getDeveloperSecretKey() == null) throw new Exception ("Must have PlayFabSettings.DeveloperSecretKey set to call this method");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Server/UnlinkServerCustomId"), request, "X-SecretKey", PlayFabSettings.DeveloperSecretKey);
+        FutureTask<Object> task = PlayFabHTTP.doPost(context.getURL("/Server/UnlinkServerCustomId"), request, "X-SecretKey", context.getDeveloperSecretKey(), UnlinkServerCustomIdResult.class);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -7156,9 +7044,7 @@ public class PlayFabServerAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
-
-        PlayFabJsonSuccess<UnlinkServerCustomIdResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<UnlinkServerCustomIdResult>>(){}.getType());
+        PlayFabJsonSuccess<UnlinkServerCustomIdResult> resultData = (PlayFabJsonSuccess<UnlinkServerCustomIdResult>) httpResult;
         UnlinkServerCustomIdResult result = resultData.data;
 
         PlayFabResult<UnlinkServerCustomIdResult> pfResult = new PlayFabResult<UnlinkServerCustomIdResult>();
@@ -7175,7 +7061,7 @@ public class PlayFabServerAPI {
     public static FutureTask<PlayFabResult<UnlinkXboxAccountResult>> UnlinkXboxAccountAsync(final UnlinkXboxAccountRequest request) {
         return new FutureTask(new Callable<PlayFabResult<UnlinkXboxAccountResult>>() {
             public PlayFabResult<UnlinkXboxAccountResult> call() throws Exception {
-                return privateUnlinkXboxAccountAsync(request);
+                return privateUnlinkXboxAccountAsync(null, request);
             }
         });
     }
@@ -7189,7 +7075,7 @@ public class PlayFabServerAPI {
     public static PlayFabResult<UnlinkXboxAccountResult> UnlinkXboxAccount(final UnlinkXboxAccountRequest request) {
         FutureTask<PlayFabResult<UnlinkXboxAccountResult>> task = new FutureTask(new Callable<PlayFabResult<UnlinkXboxAccountResult>>() {
             public PlayFabResult<UnlinkXboxAccountResult> call() throws Exception {
-                return privateUnlinkXboxAccountAsync(request);
+                return privateUnlinkXboxAccountAsync(null, request);
             }
         });
         try {
@@ -7204,10 +7090,11 @@ public class PlayFabServerAPI {
 
     /** Unlinks the related Xbox Live account from the user's PlayFab account */
     @SuppressWarnings("unchecked")
-    private static PlayFabResult<UnlinkXboxAccountResult> privateUnlinkXboxAccountAsync(final UnlinkXboxAccountRequest request) throws Exception {
-        if (PlayFabSettings.DeveloperSecretKey == null) throw new Exception ("Must have PlayFabSettings.DeveloperSecretKey set to call this method");
+    static PlayFabResult<UnlinkXboxAccountResult> privateUnlinkXboxAccountAsync(final PlayFabInstanceAPI instance, final UnlinkXboxAccountRequest request) throws Exception {
+        final PlayFabApiContext context = PlayFabInstanceAPI.contextOf(instance);
+        if (context.getDeveloperSecretKey() == null) throw new Exception ("Must have PlayFabSettings.DeveloperSecretKey set to call this method");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Server/UnlinkXboxAccount"), request, "X-SecretKey", PlayFabSettings.DeveloperSecretKey);
+        FutureTask<Object> task = PlayFabHTTP.doPost(context.getURL("/Server/UnlinkXboxAccount"), request, "X-SecretKey", context.getDeveloperSecretKey(), UnlinkXboxAccountResult.class);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -7218,9 +7105,7 @@ public class PlayFabServerAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
-
-        PlayFabJsonSuccess<UnlinkXboxAccountResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<UnlinkXboxAccountResult>>(){}.getType());
+        PlayFabJsonSuccess<UnlinkXboxAccountResult> resultData = (PlayFabJsonSuccess<UnlinkXboxAccountResult>) httpResult;
         UnlinkXboxAccountResult result = resultData.data;
 
         PlayFabResult<UnlinkXboxAccountResult> pfResult = new PlayFabResult<UnlinkXboxAccountResult>();
@@ -7239,7 +7124,7 @@ public class PlayFabServerAPI {
     public static FutureTask<PlayFabResult<UnlockContainerItemResult>> UnlockContainerInstanceAsync(final UnlockContainerInstanceRequest request) {
         return new FutureTask(new Callable<PlayFabResult<UnlockContainerItemResult>>() {
             public PlayFabResult<UnlockContainerItemResult> call() throws Exception {
-                return privateUnlockContainerInstanceAsync(request);
+                return privateUnlockContainerInstanceAsync(null, request);
             }
         });
     }
@@ -7255,7 +7140,7 @@ public class PlayFabServerAPI {
     public static PlayFabResult<UnlockContainerItemResult> UnlockContainerInstance(final UnlockContainerInstanceRequest request) {
         FutureTask<PlayFabResult<UnlockContainerItemResult>> task = new FutureTask(new Callable<PlayFabResult<UnlockContainerItemResult>>() {
             public PlayFabResult<UnlockContainerItemResult> call() throws Exception {
-                return privateUnlockContainerInstanceAsync(request);
+                return privateUnlockContainerInstanceAsync(null, request);
             }
         });
         try {
@@ -7274,10 +7159,11 @@ public class PlayFabServerAPI {
      * 0), their RemainingUses will be decremented, consistent with the operation of ConsumeItem.
      */
     @SuppressWarnings("unchecked")
-    private static PlayFabResult<UnlockContainerItemResult> privateUnlockContainerInstanceAsync(final UnlockContainerInstanceRequest request) throws Exception {
-        if (PlayFabSettings.DeveloperSecretKey == null) throw new Exception ("Must have PlayFabSettings.DeveloperSecretKey set to call this method");
+    static PlayFabResult<UnlockContainerItemResult> privateUnlockContainerInstanceAsync(final PlayFabInstanceAPI instance, final UnlockContainerInstanceRequest request) throws Exception {
+        final PlayFabApiContext context = PlayFabInstanceAPI.contextOf(instance);
+        if (context.getDeveloperSecretKey() == null) throw new Exception ("Must have PlayFabSettings.DeveloperSecretKey set to call this method");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Server/UnlockContainerInstance"), request, "X-SecretKey", PlayFabSettings.DeveloperSecretKey);
+        FutureTask<Object> task = PlayFabHTTP.doPost(context.getURL("/Server/UnlockContainerInstance"), request, "X-SecretKey", context.getDeveloperSecretKey(), UnlockContainerItemResult.class);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -7288,9 +7174,7 @@ public class PlayFabServerAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
-
-        PlayFabJsonSuccess<UnlockContainerItemResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<UnlockContainerItemResult>>(){}.getType());
+        PlayFabJsonSuccess<UnlockContainerItemResult> resultData = (PlayFabJsonSuccess<UnlockContainerItemResult>) httpResult;
         UnlockContainerItemResult result = resultData.data;
 
         PlayFabResult<UnlockContainerItemResult> pfResult = new PlayFabResult<UnlockContainerItemResult>();
@@ -7310,7 +7194,7 @@ public class PlayFabServerAPI {
     public static FutureTask<PlayFabResult<UnlockContainerItemResult>> UnlockContainerItemAsync(final UnlockContainerItemRequest request) {
         return new FutureTask(new Callable<PlayFabResult<UnlockContainerItemResult>>() {
             public PlayFabResult<UnlockContainerItemResult> call() throws Exception {
-                return privateUnlockContainerItemAsync(request);
+                return privateUnlockContainerItemAsync(null, request);
             }
         });
     }
@@ -7327,7 +7211,7 @@ public class PlayFabServerAPI {
     public static PlayFabResult<UnlockContainerItemResult> UnlockContainerItem(final UnlockContainerItemRequest request) {
         FutureTask<PlayFabResult<UnlockContainerItemResult>> task = new FutureTask(new Callable<PlayFabResult<UnlockContainerItemResult>>() {
             public PlayFabResult<UnlockContainerItemResult> call() throws Exception {
-                return privateUnlockContainerItemAsync(request);
+                return privateUnlockContainerItemAsync(null, request);
             }
         });
         try {
@@ -7347,10 +7231,11 @@ public class PlayFabServerAPI {
      * ConsumeItem.
      */
     @SuppressWarnings("unchecked")
-    private static PlayFabResult<UnlockContainerItemResult> privateUnlockContainerItemAsync(final UnlockContainerItemRequest request) throws Exception {
-        if (PlayFabSettings.DeveloperSecretKey == null) throw new Exception ("Must have PlayFabSettings.DeveloperSecretKey set to call this method");
+    static PlayFabResult<UnlockContainerItemResult> privateUnlockContainerItemAsync(final PlayFabInstanceAPI instance, final UnlockContainerItemRequest request) throws Exception {
+        final PlayFabApiContext context = PlayFabInstanceAPI.contextOf(instance);
+        if (context.getDeveloperSecretKey() == null) throw new Exception ("Must have PlayFabSettings.DeveloperSecretKey set to call this method");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Server/UnlockContainerItem"), request, "X-SecretKey", PlayFabSettings.DeveloperSecretKey);
+        FutureTask<Object> task = PlayFabHTTP.doPost(context.getURL("/Server/UnlockContainerItem"), request, "X-SecretKey", context.getDeveloperSecretKey(), UnlockContainerItemResult.class);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -7361,9 +7246,7 @@ public class PlayFabServerAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
-
-        PlayFabJsonSuccess<UnlockContainerItemResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<UnlockContainerItemResult>>(){}.getType());
+        PlayFabJsonSuccess<UnlockContainerItemResult> resultData = (PlayFabJsonSuccess<UnlockContainerItemResult>) httpResult;
         UnlockContainerItemResult result = resultData.data;
 
         PlayFabResult<UnlockContainerItemResult> pfResult = new PlayFabResult<UnlockContainerItemResult>();
@@ -7380,7 +7263,7 @@ public class PlayFabServerAPI {
     public static FutureTask<PlayFabResult<EmptyResponse>> UpdateAvatarUrlAsync(final UpdateAvatarUrlRequest request) {
         return new FutureTask(new Callable<PlayFabResult<EmptyResponse>>() {
             public PlayFabResult<EmptyResponse> call() throws Exception {
-                return privateUpdateAvatarUrlAsync(request);
+                return privateUpdateAvatarUrlAsync(null, request);
             }
         });
     }
@@ -7394,7 +7277,7 @@ public class PlayFabServerAPI {
     public static PlayFabResult<EmptyResponse> UpdateAvatarUrl(final UpdateAvatarUrlRequest request) {
         FutureTask<PlayFabResult<EmptyResponse>> task = new FutureTask(new Callable<PlayFabResult<EmptyResponse>>() {
             public PlayFabResult<EmptyResponse> call() throws Exception {
-                return privateUpdateAvatarUrlAsync(request);
+                return privateUpdateAvatarUrlAsync(null, request);
             }
         });
         try {
@@ -7409,10 +7292,11 @@ public class PlayFabServerAPI {
 
     /** Update the avatar URL of the specified player */
     @SuppressWarnings("unchecked")
-    private static PlayFabResult<EmptyResponse> privateUpdateAvatarUrlAsync(final UpdateAvatarUrlRequest request) throws Exception {
-        if (PlayFabSettings.DeveloperSecretKey == null) throw new Exception ("Must have PlayFabSettings.DeveloperSecretKey set to call this method");
+    static PlayFabResult<EmptyResponse> privateUpdateAvatarUrlAsync(final PlayFabInstanceAPI instance, final UpdateAvatarUrlRequest request) throws Exception {
+        final PlayFabApiContext context = PlayFabInstanceAPI.contextOf(instance);
+        if (context.getDeveloperSecretKey() == null) throw new Exception ("Must have PlayFabSettings.DeveloperSecretKey set to call this method");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Server/UpdateAvatarUrl"), request, "X-SecretKey", PlayFabSettings.DeveloperSecretKey);
+        FutureTask<Object> task = PlayFabHTTP.doPost(context.getURL("/Server/UpdateAvatarUrl"), request, "X-SecretKey", context.getDeveloperSecretKey(), EmptyResponse.class);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -7423,9 +7307,7 @@ public class PlayFabServerAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
-
-        PlayFabJsonSuccess<EmptyResponse> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<EmptyResponse>>(){}.getType());
+        PlayFabJsonSuccess<EmptyResponse> resultData = (PlayFabJsonSuccess<EmptyResponse>) httpResult;
         EmptyResponse result = resultData.data;
 
         PlayFabResult<EmptyResponse> pfResult = new PlayFabResult<EmptyResponse>();
@@ -7442,7 +7324,7 @@ public class PlayFabServerAPI {
     public static FutureTask<PlayFabResult<UpdateBansResult>> UpdateBansAsync(final UpdateBansRequest request) {
         return new FutureTask(new Callable<PlayFabResult<UpdateBansResult>>() {
             public PlayFabResult<UpdateBansResult> call() throws Exception {
-                return privateUpdateBansAsync(request);
+                return privateUpdateBansAsync(null, request);
             }
         });
     }
@@ -7456,7 +7338,7 @@ public class PlayFabServerAPI {
     public static PlayFabResult<UpdateBansResult> UpdateBans(final UpdateBansRequest request) {
         FutureTask<PlayFabResult<UpdateBansResult>> task = new FutureTask(new Callable<PlayFabResult<UpdateBansResult>>() {
             public PlayFabResult<UpdateBansResult> call() throws Exception {
-                return privateUpdateBansAsync(request);
+                return privateUpdateBansAsync(null, request);
             }
         });
         try {
@@ -7471,10 +7353,11 @@ public class PlayFabServerAPI {
 
     /** Updates information of a list of existing bans specified with Ban Ids. */
     @SuppressWarnings("unchecked")
-    private static PlayFabResult<UpdateBansResult> privateUpdateBansAsync(final UpdateBansRequest request) throws Exception {
-        if (PlayFabSettings.DeveloperSecretKey == null) throw new Exception ("Must have PlayFabSettings.DeveloperSecretKey set to call this method");
+    static PlayFabResult<UpdateBansResult> privateUpdateBansAsync(final PlayFabInstanceAPI instance, final UpdateBansRequest request) throws Exception {
+        final PlayFabApiContext context = PlayFabInstanceAPI.contextOf(instance);
+        if (context.getDeveloperSecretKey() == null) throw new Exception ("Must have PlayFabSettings.DeveloperSecretKey set to call this method");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Server/UpdateBans"), request, "X-SecretKey", PlayFabSettings.DeveloperSecretKey);
+        FutureTask<Object> task = PlayFabHTTP.doPost(context.getURL("/Server/UpdateBans"), request, "X-SecretKey", context.getDeveloperSecretKey(), UpdateBansResult.class);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -7485,9 +7368,7 @@ public class PlayFabServerAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
-
-        PlayFabJsonSuccess<UpdateBansResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<UpdateBansResult>>(){}.getType());
+        PlayFabJsonSuccess<UpdateBansResult> resultData = (PlayFabJsonSuccess<UpdateBansResult>) httpResult;
         UpdateBansResult result = resultData.data;
 
         PlayFabResult<UpdateBansResult> pfResult = new PlayFabResult<UpdateBansResult>();
@@ -7504,7 +7385,7 @@ public class PlayFabServerAPI {
     public static FutureTask<PlayFabResult<UpdateCharacterDataResult>> UpdateCharacterDataAsync(final UpdateCharacterDataRequest request) {
         return new FutureTask(new Callable<PlayFabResult<UpdateCharacterDataResult>>() {
             public PlayFabResult<UpdateCharacterDataResult> call() throws Exception {
-                return privateUpdateCharacterDataAsync(request);
+                return privateUpdateCharacterDataAsync(null, request);
             }
         });
     }
@@ -7518,7 +7399,7 @@ public class PlayFabServerAPI {
     public static PlayFabResult<UpdateCharacterDataResult> UpdateCharacterData(final UpdateCharacterDataRequest request) {
         FutureTask<PlayFabResult<UpdateCharacterDataResult>> task = new FutureTask(new Callable<PlayFabResult<UpdateCharacterDataResult>>() {
             public PlayFabResult<UpdateCharacterDataResult> call() throws Exception {
-                return privateUpdateCharacterDataAsync(request);
+                return privateUpdateCharacterDataAsync(null, request);
             }
         });
         try {
@@ -7533,10 +7414,11 @@ public class PlayFabServerAPI {
 
     /** Updates the title-specific custom data for the user's character which is readable and writable by the client */
     @SuppressWarnings("unchecked")
-    private static PlayFabResult<UpdateCharacterDataResult> privateUpdateCharacterDataAsync(final UpdateCharacterDataRequest request) throws Exception {
-        if (PlayFabSettings.DeveloperSecretKey == null) throw new Exception ("Must have PlayFabSettings.DeveloperSecretKey set to call this method");
+    static PlayFabResult<UpdateCharacterDataResult> privateUpdateCharacterDataAsync(final PlayFabInstanceAPI instance, final UpdateCharacterDataRequest request) throws Exception {
+        final PlayFabApiContext context = PlayFabInstanceAPI.contextOf(instance);
+        if (context.getDeveloperSecretKey() == null) throw new Exception ("Must have PlayFabSettings.DeveloperSecretKey set to call this method");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Server/UpdateCharacterData"), request, "X-SecretKey", PlayFabSettings.DeveloperSecretKey);
+        FutureTask<Object> task = PlayFabHTTP.doPost(context.getURL("/Server/UpdateCharacterData"), request, "X-SecretKey", context.getDeveloperSecretKey(), UpdateCharacterDataResult.class);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -7547,9 +7429,7 @@ public class PlayFabServerAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
-
-        PlayFabJsonSuccess<UpdateCharacterDataResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<UpdateCharacterDataResult>>(){}.getType());
+        PlayFabJsonSuccess<UpdateCharacterDataResult> resultData = (PlayFabJsonSuccess<UpdateCharacterDataResult>) httpResult;
         UpdateCharacterDataResult result = resultData.data;
 
         PlayFabResult<UpdateCharacterDataResult> pfResult = new PlayFabResult<UpdateCharacterDataResult>();
@@ -7566,7 +7446,7 @@ public class PlayFabServerAPI {
     public static FutureTask<PlayFabResult<UpdateCharacterDataResult>> UpdateCharacterInternalDataAsync(final UpdateCharacterDataRequest request) {
         return new FutureTask(new Callable<PlayFabResult<UpdateCharacterDataResult>>() {
             public PlayFabResult<UpdateCharacterDataResult> call() throws Exception {
-                return privateUpdateCharacterInternalDataAsync(request);
+                return privateUpdateCharacterInternalDataAsync(null, request);
             }
         });
     }
@@ -7580,7 +7460,7 @@ public class PlayFabServerAPI {
     public static PlayFabResult<UpdateCharacterDataResult> UpdateCharacterInternalData(final UpdateCharacterDataRequest request) {
         FutureTask<PlayFabResult<UpdateCharacterDataResult>> task = new FutureTask(new Callable<PlayFabResult<UpdateCharacterDataResult>>() {
             public PlayFabResult<UpdateCharacterDataResult> call() throws Exception {
-                return privateUpdateCharacterInternalDataAsync(request);
+                return privateUpdateCharacterInternalDataAsync(null, request);
             }
         });
         try {
@@ -7595,10 +7475,11 @@ public class PlayFabServerAPI {
 
     /** Updates the title-specific custom data for the user's character which cannot be accessed by the client */
     @SuppressWarnings("unchecked")
-    private static PlayFabResult<UpdateCharacterDataResult> privateUpdateCharacterInternalDataAsync(final UpdateCharacterDataRequest request) throws Exception {
-        if (PlayFabSettings.DeveloperSecretKey == null) throw new Exception ("Must have PlayFabSettings.DeveloperSecretKey set to call this method");
+    static PlayFabResult<UpdateCharacterDataResult> privateUpdateCharacterInternalDataAsync(final PlayFabInstanceAPI instance, final UpdateCharacterDataRequest request) throws Exception {
+        final PlayFabApiContext context = PlayFabInstanceAPI.contextOf(instance);
+        if (context.getDeveloperSecretKey() == null) throw new Exception ("Must have PlayFabSettings.DeveloperSecretKey set to call this method");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Server/UpdateCharacterInternalData"), request, "X-SecretKey", PlayFabSettings.DeveloperSecretKey);
+        FutureTask<Object> task = PlayFabHTTP.doPost(context.getURL("/Server/UpdateCharacterInternalData"), request, "X-SecretKey", context.getDeveloperSecretKey(), UpdateCharacterDataResult.class);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -7609,9 +7490,7 @@ public class PlayFabServerAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
-
-        PlayFabJsonSuccess<UpdateCharacterDataResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<UpdateCharacterDataResult>>(){}.getType());
+        PlayFabJsonSuccess<UpdateCharacterDataResult> resultData = (PlayFabJsonSuccess<UpdateCharacterDataResult>) httpResult;
         UpdateCharacterDataResult result = resultData.data;
 
         PlayFabResult<UpdateCharacterDataResult> pfResult = new PlayFabResult<UpdateCharacterDataResult>();
@@ -7628,7 +7507,7 @@ public class PlayFabServerAPI {
     public static FutureTask<PlayFabResult<UpdateCharacterDataResult>> UpdateCharacterReadOnlyDataAsync(final UpdateCharacterDataRequest request) {
         return new FutureTask(new Callable<PlayFabResult<UpdateCharacterDataResult>>() {
             public PlayFabResult<UpdateCharacterDataResult> call() throws Exception {
-                return privateUpdateCharacterReadOnlyDataAsync(request);
+                return privateUpdateCharacterReadOnlyDataAsync(null, request);
             }
         });
     }
@@ -7642,7 +7521,7 @@ public class PlayFabServerAPI {
     public static PlayFabResult<UpdateCharacterDataResult> UpdateCharacterReadOnlyData(final UpdateCharacterDataRequest request) {
         FutureTask<PlayFabResult<UpdateCharacterDataResult>> task = new FutureTask(new Callable<PlayFabResult<UpdateCharacterDataResult>>() {
             public PlayFabResult<UpdateCharacterDataResult> call() throws Exception {
-                return privateUpdateCharacterReadOnlyDataAsync(request);
+                return privateUpdateCharacterReadOnlyDataAsync(null, request);
             }
         });
         try {
@@ -7657,10 +7536,11 @@ public class PlayFabServerAPI {
 
     /** Updates the title-specific custom data for the user's character which can only be read by the client */
     @SuppressWarnings("unchecked")
-    private static PlayFabResult<UpdateCharacterDataResult> privateUpdateCharacterReadOnlyDataAsync(final UpdateCharacterDataRequest request) throws Exception {
-        if (PlayFabSettings.DeveloperSecretKey == null) throw new Exception ("Must have PlayFabSettings.DeveloperSecretKey set to call this method");
+    static PlayFabResult<UpdateCharacterDataResult> privateUpdateCharacterReadOnlyDataAsync(final PlayFabInstanceAPI instance, final UpdateCharacterDataRequest request) throws Exception {
+        final PlayFabApiContext context = PlayFabInstanceAPI.contextOf(instance);
+        if (context.getDeveloperSecretKey() == null) throw new Exception ("Must have PlayFabSettings.DeveloperSecretKey set to call this method");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Server/UpdateCharacterReadOnlyData"), request, "X-SecretKey", PlayFabSettings.DeveloperSecretKey);
+        FutureTask<Object> task = PlayFabHTTP.doPost(context.getURL("/Server/UpdateCharacterReadOnlyData"), request, "X-SecretKey", context.getDeveloperSecretKey(), UpdateCharacterDataResult.class);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -7671,9 +7551,7 @@ public class PlayFabServerAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
-
-        PlayFabJsonSuccess<UpdateCharacterDataResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<UpdateCharacterDataResult>>(){}.getType());
+        PlayFabJsonSuccess<UpdateCharacterDataResult> resultData = (PlayFabJsonSuccess<UpdateCharacterDataResult>) httpResult;
         UpdateCharacterDataResult result = resultData.data;
 
         PlayFabResult<UpdateCharacterDataResult> pfResult = new PlayFabResult<UpdateCharacterDataResult>();
@@ -7690,7 +7568,7 @@ public class PlayFabServerAPI {
     public static FutureTask<PlayFabResult<UpdateCharacterStatisticsResult>> UpdateCharacterStatisticsAsync(final UpdateCharacterStatisticsRequest request) {
         return new FutureTask(new Callable<PlayFabResult<UpdateCharacterStatisticsResult>>() {
             public PlayFabResult<UpdateCharacterStatisticsResult> call() throws Exception {
-                return privateUpdateCharacterStatisticsAsync(request);
+                return privateUpdateCharacterStatisticsAsync(null, request);
             }
         });
     }
@@ -7704,7 +7582,7 @@ public class PlayFabServerAPI {
     public static PlayFabResult<UpdateCharacterStatisticsResult> UpdateCharacterStatistics(final UpdateCharacterStatisticsRequest request) {
         FutureTask<PlayFabResult<UpdateCharacterStatisticsResult>> task = new FutureTask(new Callable<PlayFabResult<UpdateCharacterStatisticsResult>>() {
             public PlayFabResult<UpdateCharacterStatisticsResult> call() throws Exception {
-                return privateUpdateCharacterStatisticsAsync(request);
+                return privateUpdateCharacterStatisticsAsync(null, request);
             }
         });
         try {
@@ -7719,10 +7597,11 @@ public class PlayFabServerAPI {
 
     /** Updates the values of the specified title-specific statistics for the specific character */
     @SuppressWarnings("unchecked")
-    private static PlayFabResult<UpdateCharacterStatisticsResult> privateUpdateCharacterStatisticsAsync(final UpdateCharacterStatisticsRequest request) throws Exception {
-        if (PlayFabSettings.DeveloperSecretKey == null) throw new Exception ("Must have PlayFabSettings.DeveloperSecretKey set to call this method");
+    static PlayFabResult<UpdateCharacterStatisticsResult> privateUpdateCharacterStatisticsAsync(final PlayFabInstanceAPI instance, final UpdateCharacterStatisticsRequest request) throws Exception {
+        final PlayFabApiContext context = PlayFabInstanceAPI.contextOf(instance);
+        if (context.getDeveloperSecretKey() == null) throw new Exception ("Must have PlayFabSettings.DeveloperSecretKey set to call this method");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Server/UpdateCharacterStatistics"), request, "X-SecretKey", PlayFabSettings.DeveloperSecretKey);
+        FutureTask<Object> task = PlayFabHTTP.doPost(context.getURL("/Server/UpdateCharacterStatistics"), request, "X-SecretKey", context.getDeveloperSecretKey(), UpdateCharacterStatisticsResult.class);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -7733,9 +7612,7 @@ public class PlayFabServerAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
-
-        PlayFabJsonSuccess<UpdateCharacterStatisticsResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<UpdateCharacterStatisticsResult>>(){}.getType());
+        PlayFabJsonSuccess<UpdateCharacterStatisticsResult> resultData = (PlayFabJsonSuccess<UpdateCharacterStatisticsResult>) httpResult;
         UpdateCharacterStatisticsResult result = resultData.data;
 
         PlayFabResult<UpdateCharacterStatisticsResult> pfResult = new PlayFabResult<UpdateCharacterStatisticsResult>();
@@ -7752,7 +7629,7 @@ public class PlayFabServerAPI {
     public static FutureTask<PlayFabResult<UpdatePlayerStatisticsResult>> UpdatePlayerStatisticsAsync(final UpdatePlayerStatisticsRequest request) {
         return new FutureTask(new Callable<PlayFabResult<UpdatePlayerStatisticsResult>>() {
             public PlayFabResult<UpdatePlayerStatisticsResult> call() throws Exception {
-                return privateUpdatePlayerStatisticsAsync(request);
+                return privateUpdatePlayerStatisticsAsync(null, request);
             }
         });
     }
@@ -7766,7 +7643,7 @@ public class PlayFabServerAPI {
     public static PlayFabResult<UpdatePlayerStatisticsResult> UpdatePlayerStatistics(final UpdatePlayerStatisticsRequest request) {
         FutureTask<PlayFabResult<UpdatePlayerStatisticsResult>> task = new FutureTask(new Callable<PlayFabResult<UpdatePlayerStatisticsResult>>() {
             public PlayFabResult<UpdatePlayerStatisticsResult> call() throws Exception {
-                return privateUpdatePlayerStatisticsAsync(request);
+                return privateUpdatePlayerStatisticsAsync(null, request);
             }
         });
         try {
@@ -7781,10 +7658,11 @@ public class PlayFabServerAPI {
 
     /** Updates the values of the specified title-specific statistics for the user */
     @SuppressWarnings("unchecked")
-    private static PlayFabResult<UpdatePlayerStatisticsResult> privateUpdatePlayerStatisticsAsync(final UpdatePlayerStatisticsRequest request) throws Exception {
-        if (PlayFabSettings.DeveloperSecretKey == null) throw new Exception ("Must have PlayFabSettings.DeveloperSecretKey set to call this method");
+    static PlayFabResult<UpdatePlayerStatisticsResult> privateUpdatePlayerStatisticsAsync(final PlayFabInstanceAPI instance, final UpdatePlayerStatisticsRequest request) throws Exception {
+        final PlayFabApiContext context = PlayFabInstanceAPI.contextOf(instance);
+        if (context.getDeveloperSecretKey() == null) throw new Exception ("Must have PlayFabSettings.DeveloperSecretKey set to call this method");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Server/UpdatePlayerStatistics"), request, "X-SecretKey", PlayFabSettings.DeveloperSecretKey);
+        FutureTask<Object> task = PlayFabHTTP.doPost(context.getURL("/Server/UpdatePlayerStatistics"), request, "X-SecretKey", context.getDeveloperSecretKey(), UpdatePlayerStatisticsResult.class);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -7795,9 +7673,7 @@ public class PlayFabServerAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
-
-        PlayFabJsonSuccess<UpdatePlayerStatisticsResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<UpdatePlayerStatisticsResult>>(){}.getType());
+        PlayFabJsonSuccess<UpdatePlayerStatisticsResult> resultData = (PlayFabJsonSuccess<UpdatePlayerStatisticsResult>) httpResult;
         UpdatePlayerStatisticsResult result = resultData.data;
 
         PlayFabResult<UpdatePlayerStatisticsResult> pfResult = new PlayFabResult<UpdatePlayerStatisticsResult>();
@@ -7818,7 +7694,7 @@ public class PlayFabServerAPI {
     public static FutureTask<PlayFabResult<UpdateSharedGroupDataResult>> UpdateSharedGroupDataAsync(final UpdateSharedGroupDataRequest request) {
         return new FutureTask(new Callable<PlayFabResult<UpdateSharedGroupDataResult>>() {
             public PlayFabResult<UpdateSharedGroupDataResult> call() throws Exception {
-                return privateUpdateSharedGroupDataAsync(request);
+                return privateUpdateSharedGroupDataAsync(null, request);
             }
         });
     }
@@ -7836,7 +7712,7 @@ public class PlayFabServerAPI {
     public static PlayFabResult<UpdateSharedGroupDataResult> UpdateSharedGroupData(final UpdateSharedGroupDataRequest request) {
         FutureTask<PlayFabResult<UpdateSharedGroupDataResult>> task = new FutureTask(new Callable<PlayFabResult<UpdateSharedGroupDataResult>>() {
             public PlayFabResult<UpdateSharedGroupDataResult> call() throws Exception {
-                return privateUpdateSharedGroupDataAsync(request);
+                return privateUpdateSharedGroupDataAsync(null, request);
             }
         });
         try {
@@ -7857,10 +7733,11 @@ public class PlayFabServerAPI {
      * https://docs.microsoft.com/gaming/playfab/features/social/groups/using-shared-group-data
      */
     @SuppressWarnings("unchecked")
-    private static PlayFabResult<UpdateSharedGroupDataResult> privateUpdateSharedGroupDataAsync(final UpdateSharedGroupDataRequest request) throws Exception {
-        if (PlayFabSettings.DeveloperSecretKey == null) throw new Exception ("Must have PlayFabSettings.DeveloperSecretKey set to call this method");
+    static PlayFabResult<UpdateSharedGroupDataResult> privateUpdateSharedGroupDataAsync(final PlayFabInstanceAPI instance, final UpdateSharedGroupDataRequest request) throws Exception {
+        final PlayFabApiContext context = PlayFabInstanceAPI.contextOf(instance);
+        if (context.getDeveloperSecretKey() == null) throw new Exception ("Must have PlayFabSettings.DeveloperSecretKey set to call this method");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Server/UpdateSharedGroupData"), request, "X-SecretKey", PlayFabSettings.DeveloperSecretKey);
+        FutureTask<Object> task = PlayFabHTTP.doPost(context.getURL("/Server/UpdateSharedGroupData"), request, "X-SecretKey", context.getDeveloperSecretKey(), UpdateSharedGroupDataResult.class);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -7871,9 +7748,7 @@ public class PlayFabServerAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
-
-        PlayFabJsonSuccess<UpdateSharedGroupDataResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<UpdateSharedGroupDataResult>>(){}.getType());
+        PlayFabJsonSuccess<UpdateSharedGroupDataResult> resultData = (PlayFabJsonSuccess<UpdateSharedGroupDataResult>) httpResult;
         UpdateSharedGroupDataResult result = resultData.data;
 
         PlayFabResult<UpdateSharedGroupDataResult> pfResult = new PlayFabResult<UpdateSharedGroupDataResult>();
@@ -7890,7 +7765,7 @@ public class PlayFabServerAPI {
     public static FutureTask<PlayFabResult<UpdateUserDataResult>> UpdateUserDataAsync(final UpdateUserDataRequest request) {
         return new FutureTask(new Callable<PlayFabResult<UpdateUserDataResult>>() {
             public PlayFabResult<UpdateUserDataResult> call() throws Exception {
-                return privateUpdateUserDataAsync(request);
+                return privateUpdateUserDataAsync(null, request);
             }
         });
     }
@@ -7904,7 +7779,7 @@ public class PlayFabServerAPI {
     public static PlayFabResult<UpdateUserDataResult> UpdateUserData(final UpdateUserDataRequest request) {
         FutureTask<PlayFabResult<UpdateUserDataResult>> task = new FutureTask(new Callable<PlayFabResult<UpdateUserDataResult>>() {
             public PlayFabResult<UpdateUserDataResult> call() throws Exception {
-                return privateUpdateUserDataAsync(request);
+                return privateUpdateUserDataAsync(null, request);
             }
         });
         try {
@@ -7919,10 +7794,11 @@ public class PlayFabServerAPI {
 
     /** Updates the title-specific custom data for the user which is readable and writable by the client */
     @SuppressWarnings("unchecked")
-    private static PlayFabResult<UpdateUserDataResult> privateUpdateUserDataAsync(final UpdateUserDataRequest request) throws Exception {
-        if (PlayFabSettings.DeveloperSecretKey == null) throw new Exception ("Must have PlayFabSettings.DeveloperSecretKey set to call this method");
+    static PlayFabResult<UpdateUserDataResult> privateUpdateUserDataAsync(final PlayFabInstanceAPI instance, final UpdateUserDataRequest request) throws Exception {
+        final PlayFabApiContext context = PlayFabInstanceAPI.contextOf(instance);
+        if (context.getDeveloperSecretKey() == null) throw new Exception ("Must have PlayFabSettings.DeveloperSecretKey set to call this method");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Server/UpdateUserData"), request, "X-SecretKey", PlayFabSettings.DeveloperSecretKey);
+        FutureTask<Object> task = PlayFabHTTP.doPost(context.getURL("/Server/UpdateUserData"), request, "X-SecretKey", context.getDeveloperSecretKey(), UpdateUserDataResult.class);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -7933,9 +7809,7 @@ public class PlayFabServerAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
-
-        PlayFabJsonSuccess<UpdateUserDataResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<UpdateUserDataResult>>(){}.getType());
+        PlayFabJsonSuccess<UpdateUserDataResult> resultData = (PlayFabJsonSuccess<UpdateUserDataResult>) httpResult;
         UpdateUserDataResult result = resultData.data;
 
         PlayFabResult<UpdateUserDataResult> pfResult = new PlayFabResult<UpdateUserDataResult>();
@@ -7952,7 +7826,7 @@ public class PlayFabServerAPI {
     public static FutureTask<PlayFabResult<UpdateUserDataResult>> UpdateUserInternalDataAsync(final UpdateUserInternalDataRequest request) {
         return new FutureTask(new Callable<PlayFabResult<UpdateUserDataResult>>() {
             public PlayFabResult<UpdateUserDataResult> call() throws Exception {
-                return privateUpdateUserInternalDataAsync(request);
+                return privateUpdateUserInternalDataAsync(null, request);
             }
         });
     }
@@ -7966,7 +7840,7 @@ public class PlayFabServerAPI {
     public static PlayFabResult<UpdateUserDataResult> UpdateUserInternalData(final UpdateUserInternalDataRequest request) {
         FutureTask<PlayFabResult<UpdateUserDataResult>> task = new FutureTask(new Callable<PlayFabResult<UpdateUserDataResult>>() {
             public PlayFabResult<UpdateUserDataResult> call() throws Exception {
-                return privateUpdateUserInternalDataAsync(request);
+                return privateUpdateUserInternalDataAsync(null, request);
             }
         });
         try {
@@ -7981,10 +7855,11 @@ public class PlayFabServerAPI {
 
     /** Updates the title-specific custom data for the user which cannot be accessed by the client */
     @SuppressWarnings("unchecked")
-    private static PlayFabResult<UpdateUserDataResult> privateUpdateUserInternalDataAsync(final UpdateUserInternalDataRequest request) throws Exception {
-        if (PlayFabSettings.DeveloperSecretKey == null) throw new Exception ("Must have PlayFabSettings.DeveloperSecretKey set to call this method");
+    static PlayFabResult<UpdateUserDataResult> privateUpdateUserInternalDataAsync(final PlayFabInstanceAPI instance, final UpdateUserInternalDataRequest request) throws Exception {
+        final PlayFabApiContext context = PlayFabInstanceAPI.contextOf(instance);
+        if (context.getDeveloperSecretKey() == null) throw new Exception ("Must have PlayFabSettings.DeveloperSecretKey set to call this method");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Server/UpdateUserInternalData"), request, "X-SecretKey", PlayFabSettings.DeveloperSecretKey);
+        FutureTask<Object> task = PlayFabHTTP.doPost(context.getURL("/Server/UpdateUserInternalData"), request, "X-SecretKey", context.getDeveloperSecretKey(), UpdateUserDataResult.class);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -7995,9 +7870,7 @@ public class PlayFabServerAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
-
-        PlayFabJsonSuccess<UpdateUserDataResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<UpdateUserDataResult>>(){}.getType());
+        PlayFabJsonSuccess<UpdateUserDataResult> resultData = (PlayFabJsonSuccess<UpdateUserDataResult>) httpResult;
         UpdateUserDataResult result = resultData.data;
 
         PlayFabResult<UpdateUserDataResult> pfResult = new PlayFabResult<UpdateUserDataResult>();
@@ -8014,7 +7887,7 @@ public class PlayFabServerAPI {
     public static FutureTask<PlayFabResult<EmptyResponse>> UpdateUserInventoryItemCustomDataAsync(final UpdateUserInventoryItemDataRequest request) {
         return new FutureTask(new Callable<PlayFabResult<EmptyResponse>>() {
             public PlayFabResult<EmptyResponse> call() throws Exception {
-                return privateUpdateUserInventoryItemCustomDataAsync(request);
+                return privateUpdateUserInventoryItemCustomDataAsync(null, request);
             }
         });
     }
@@ -8028,7 +7901,7 @@ public class PlayFabServerAPI {
     public static PlayFabResult<EmptyResponse> UpdateUserInventoryItemCustomData(final UpdateUserInventoryItemDataRequest request) {
         FutureTask<PlayFabResult<EmptyResponse>> task = new FutureTask(new Callable<PlayFabResult<EmptyResponse>>() {
             public PlayFabResult<EmptyResponse> call() throws Exception {
-                return privateUpdateUserInventoryItemCustomDataAsync(request);
+                return privateUpdateUserInventoryItemCustomDataAsync(null, request);
             }
         });
         try {
@@ -8043,10 +7916,11 @@ public class PlayFabServerAPI {
 
     /** Updates the key-value pair data tagged to the specified item, which is read-only from the client. */
     @SuppressWarnings("unchecked")
-    private static PlayFabResult<EmptyResponse> privateUpdateUserInventoryItemCustomDataAsync(final UpdateUserInventoryItemDataRequest request) throws Exception {
-        if (PlayFabSettings.DeveloperSecretKey == null) throw new Exception ("Must have PlayFabSettings.DeveloperSecretKey set to call this method");
+    static PlayFabResult<EmptyResponse> privateUpdateUserInventoryItemCustomDataAsync(final PlayFabInstanceAPI instance, final UpdateUserInventoryItemDataRequest request) throws Exception {
+        final PlayFabApiContext context = PlayFabInstanceAPI.contextOf(instance);
+        if (context.getDeveloperSecretKey() == null) throw new Exception ("Must have PlayFabSettings.DeveloperSecretKey set to call this method");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Server/UpdateUserInventoryItemCustomData"), request, "X-SecretKey", PlayFabSettings.DeveloperSecretKey);
+        FutureTask<Object> task = PlayFabHTTP.doPost(context.getURL("/Server/UpdateUserInventoryItemCustomData"), request, "X-SecretKey", context.getDeveloperSecretKey(), EmptyResponse.class);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -8057,9 +7931,7 @@ public class PlayFabServerAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
-
-        PlayFabJsonSuccess<EmptyResponse> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<EmptyResponse>>(){}.getType());
+        PlayFabJsonSuccess<EmptyResponse> resultData = (PlayFabJsonSuccess<EmptyResponse>) httpResult;
         EmptyResponse result = resultData.data;
 
         PlayFabResult<EmptyResponse> pfResult = new PlayFabResult<EmptyResponse>();
@@ -8076,7 +7948,7 @@ public class PlayFabServerAPI {
     public static FutureTask<PlayFabResult<UpdateUserDataResult>> UpdateUserPublisherDataAsync(final UpdateUserDataRequest request) {
         return new FutureTask(new Callable<PlayFabResult<UpdateUserDataResult>>() {
             public PlayFabResult<UpdateUserDataResult> call() throws Exception {
-                return privateUpdateUserPublisherDataAsync(request);
+                return privateUpdateUserPublisherDataAsync(null, request);
             }
         });
     }
@@ -8090,7 +7962,7 @@ public class PlayFabServerAPI {
     public static PlayFabResult<UpdateUserDataResult> UpdateUserPublisherData(final UpdateUserDataRequest request) {
         FutureTask<PlayFabResult<UpdateUserDataResult>> task = new FutureTask(new Callable<PlayFabResult<UpdateUserDataResult>>() {
             public PlayFabResult<UpdateUserDataResult> call() throws Exception {
-                return privateUpdateUserPublisherDataAsync(request);
+                return privateUpdateUserPublisherDataAsync(null, request);
             }
         });
         try {
@@ -8105,10 +7977,11 @@ public class PlayFabServerAPI {
 
     /** Updates the publisher-specific custom data for the user which is readable and writable by the client */
     @SuppressWarnings("unchecked")
-    private static PlayFabResult<UpdateUserDataResult> privateUpdateUserPublisherDataAsync(final UpdateUserDataRequest request) throws Exception {
-        if (PlayFabSettings.DeveloperSecretKey == null) throw new Exception ("Must have PlayFabSettings.DeveloperSecretKey set to call this method");
+    static PlayFabResult<UpdateUserDataResult> privateUpdateUserPublisherDataAsync(final PlayFabInstanceAPI instance, final UpdateUserDataRequest request) throws Exception {
+        final PlayFabApiContext context = PlayFabInstanceAPI.contextOf(instance);
+        if (context.getDeveloperSecretKey() == null) throw new Exception ("Must have PlayFabSettings.DeveloperSecretKey set to call this method");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Server/UpdateUserPublisherData"), request, "X-SecretKey", PlayFabSettings.DeveloperSecretKey);
+        FutureTask<Object> task = PlayFabHTTP.doPost(context.getURL("/Server/UpdateUserPublisherData"), request, "X-SecretKey", context.getDeveloperSecretKey(), UpdateUserDataResult.class);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -8119,9 +7992,7 @@ public class PlayFabServerAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
-
-        PlayFabJsonSuccess<UpdateUserDataResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<UpdateUserDataResult>>(){}.getType());
+        PlayFabJsonSuccess<UpdateUserDataResult> resultData = (PlayFabJsonSuccess<UpdateUserDataResult>) httpResult;
         UpdateUserDataResult result = resultData.data;
 
         PlayFabResult<UpdateUserDataResult> pfResult = new PlayFabResult<UpdateUserDataResult>();
@@ -8138,7 +8009,7 @@ public class PlayFabServerAPI {
     public static FutureTask<PlayFabResult<UpdateUserDataResult>> UpdateUserPublisherInternalDataAsync(final UpdateUserInternalDataRequest request) {
         return new FutureTask(new Callable<PlayFabResult<UpdateUserDataResult>>() {
             public PlayFabResult<UpdateUserDataResult> call() throws Exception {
-                return privateUpdateUserPublisherInternalDataAsync(request);
+                return privateUpdateUserPublisherInternalDataAsync(null, request);
             }
         });
     }
@@ -8152,7 +8023,7 @@ public class PlayFabServerAPI {
     public static PlayFabResult<UpdateUserDataResult> UpdateUserPublisherInternalData(final UpdateUserInternalDataRequest request) {
         FutureTask<PlayFabResult<UpdateUserDataResult>> task = new FutureTask(new Callable<PlayFabResult<UpdateUserDataResult>>() {
             public PlayFabResult<UpdateUserDataResult> call() throws Exception {
-                return privateUpdateUserPublisherInternalDataAsync(request);
+                return privateUpdateUserPublisherInternalDataAsync(null, request);
             }
         });
         try {
@@ -8167,10 +8038,11 @@ public class PlayFabServerAPI {
 
     /** Updates the publisher-specific custom data for the user which cannot be accessed by the client */
     @SuppressWarnings("unchecked")
-    private static PlayFabResult<UpdateUserDataResult> privateUpdateUserPublisherInternalDataAsync(final UpdateUserInternalDataRequest request) throws Exception {
-        if (PlayFabSettings.DeveloperSecretKey == null) throw new Exception ("Must have PlayFabSettings.DeveloperSecretKey set to call this method");
+    static PlayFabResult<UpdateUserDataResult> privateUpdateUserPublisherInternalDataAsync(final PlayFabInstanceAPI instance, final UpdateUserInternalDataRequest request) throws Exception {
+        final PlayFabApiContext context = PlayFabInstanceAPI.contextOf(instance);
+        if (context.getDeveloperSecretKey() == null) throw new Exception ("Must have PlayFabSettings.DeveloperSecretKey set to call this method");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Server/UpdateUserPublisherInternalData"), request, "X-SecretKey", PlayFabSettings.DeveloperSecretKey);
+        FutureTask<Object> task = PlayFabHTTP.doPost(context.getURL("/Server/UpdateUserPublisherInternalData"), request, "X-SecretKey", context.getDeveloperSecretKey(), UpdateUserDataResult.class);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -8181,9 +8053,7 @@ public class PlayFabServerAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
-
-        PlayFabJsonSuccess<UpdateUserDataResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<UpdateUserDataResult>>(){}.getType());
+        PlayFabJsonSuccess<UpdateUserDataResult> resultData = (PlayFabJsonSuccess<UpdateUserDataResult>) httpResult;
         UpdateUserDataResult result = resultData.data;
 
         PlayFabResult<UpdateUserDataResult> pfResult = new PlayFabResult<UpdateUserDataResult>();
@@ -8200,7 +8070,7 @@ public class PlayFabServerAPI {
     public static FutureTask<PlayFabResult<UpdateUserDataResult>> UpdateUserPublisherReadOnlyDataAsync(final UpdateUserDataRequest request) {
         return new FutureTask(new Callable<PlayFabResult<UpdateUserDataResult>>() {
             public PlayFabResult<UpdateUserDataResult> call() throws Exception {
-                return privateUpdateUserPublisherReadOnlyDataAsync(request);
+                return privateUpdateUserPublisherReadOnlyDataAsync(null, request);
             }
         });
     }
@@ -8214,7 +8084,7 @@ public class PlayFabServerAPI {
     public static PlayFabResult<UpdateUserDataResult> UpdateUserPublisherReadOnlyData(final UpdateUserDataRequest request) {
         FutureTask<PlayFabResult<UpdateUserDataResult>> task = new FutureTask(new Callable<PlayFabResult<UpdateUserDataResult>>() {
             public PlayFabResult<UpdateUserDataResult> call() throws Exception {
-                return privateUpdateUserPublisherReadOnlyDataAsync(request);
+                return privateUpdateUserPublisherReadOnlyDataAsync(null, request);
             }
         });
         try {
@@ -8229,10 +8099,11 @@ public class PlayFabServerAPI {
 
     /** Updates the publisher-specific custom data for the user which can only be read by the client */
     @SuppressWarnings("unchecked")
-    private static PlayFabResult<UpdateUserDataResult> privateUpdateUserPublisherReadOnlyDataAsync(final UpdateUserDataRequest request) throws Exception {
-        if (PlayFabSettings.DeveloperSecretKey == null) throw new Exception ("Must have PlayFabSettings.DeveloperSecretKey set to call this method");
+    static PlayFabResult<UpdateUserDataResult> privateUpdateUserPublisherReadOnlyDataAsync(final PlayFabInstanceAPI instance, final UpdateUserDataRequest request) throws Exception {
+        final PlayFabApiContext context = PlayFabInstanceAPI.contextOf(instance);
+        if (context.getDeveloperSecretKey() == null) throw new Exception ("Must have PlayFabSettings.DeveloperSecretKey set to call this method");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Server/UpdateUserPublisherReadOnlyData"), request, "X-SecretKey", PlayFabSettings.DeveloperSecretKey);
+        FutureTask<Object> task = PlayFabHTTP.doPost(context.getURL("/Server/UpdateUserPublisherReadOnlyData"), request, "X-SecretKey", context.getDeveloperSecretKey(), UpdateUserDataResult.class);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -8243,9 +8114,7 @@ public class PlayFabServerAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
-
-        PlayFabJsonSuccess<UpdateUserDataResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<UpdateUserDataResult>>(){}.getType());
+        PlayFabJsonSuccess<UpdateUserDataResult> resultData = (PlayFabJsonSuccess<UpdateUserDataResult>) httpResult;
         UpdateUserDataResult result = resultData.data;
 
         PlayFabResult<UpdateUserDataResult> pfResult = new PlayFabResult<UpdateUserDataResult>();
@@ -8262,7 +8131,7 @@ public class PlayFabServerAPI {
     public static FutureTask<PlayFabResult<UpdateUserDataResult>> UpdateUserReadOnlyDataAsync(final UpdateUserDataRequest request) {
         return new FutureTask(new Callable<PlayFabResult<UpdateUserDataResult>>() {
             public PlayFabResult<UpdateUserDataResult> call() throws Exception {
-                return privateUpdateUserReadOnlyDataAsync(request);
+                return privateUpdateUserReadOnlyDataAsync(null, request);
             }
         });
     }
@@ -8276,7 +8145,7 @@ public class PlayFabServerAPI {
     public static PlayFabResult<UpdateUserDataResult> UpdateUserReadOnlyData(final UpdateUserDataRequest request) {
         FutureTask<PlayFabResult<UpdateUserDataResult>> task = new FutureTask(new Callable<PlayFabResult<UpdateUserDataResult>>() {
             public PlayFabResult<UpdateUserDataResult> call() throws Exception {
-                return privateUpdateUserReadOnlyDataAsync(request);
+                return privateUpdateUserReadOnlyDataAsync(null, request);
             }
         });
         try {
@@ -8291,10 +8160,11 @@ public class PlayFabServerAPI {
 
     /** Updates the title-specific custom data for the user which can only be read by the client */
     @SuppressWarnings("unchecked")
-    private static PlayFabResult<UpdateUserDataResult> privateUpdateUserReadOnlyDataAsync(final UpdateUserDataRequest request) throws Exception {
-        if (PlayFabSettings.DeveloperSecretKey == null) throw new Exception ("Must have PlayFabSettings.DeveloperSecretKey set to call this method");
+    static PlayFabResult<UpdateUserDataResult> privateUpdateUserReadOnlyDataAsync(final PlayFabInstanceAPI instance, final UpdateUserDataRequest request) throws Exception {
+        final PlayFabApiContext context = PlayFabInstanceAPI.contextOf(instance);
+        if (context.getDeveloperSecretKey() == null) throw new Exception ("Must have PlayFabSettings.DeveloperSecretKey set to call this method");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Server/UpdateUserReadOnlyData"), request, "X-SecretKey", PlayFabSettings.DeveloperSecretKey);
+        FutureTask<Object> task = PlayFabHTTP.doPost(context.getURL("/Server/UpdateUserReadOnlyData"), request, "X-SecretKey", context.getDeveloperSecretKey(), UpdateUserDataResult.class);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -8305,9 +8175,7 @@ public class PlayFabServerAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
-
-        PlayFabJsonSuccess<UpdateUserDataResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<UpdateUserDataResult>>(){}.getType());
+        PlayFabJsonSuccess<UpdateUserDataResult> resultData = (PlayFabJsonSuccess<UpdateUserDataResult>) httpResult;
         UpdateUserDataResult result = resultData.data;
 
         PlayFabResult<UpdateUserDataResult> pfResult = new PlayFabResult<UpdateUserDataResult>();
@@ -8324,7 +8192,7 @@ public class PlayFabServerAPI {
     public static FutureTask<PlayFabResult<WriteEventResponse>> WriteCharacterEventAsync(final WriteServerCharacterEventRequest request) {
         return new FutureTask(new Callable<PlayFabResult<WriteEventResponse>>() {
             public PlayFabResult<WriteEventResponse> call() throws Exception {
-                return privateWriteCharacterEventAsync(request);
+                return privateWriteCharacterEventAsync(null, request);
             }
         });
     }
@@ -8338,7 +8206,7 @@ public class PlayFabServerAPI {
     public static PlayFabResult<WriteEventResponse> WriteCharacterEvent(final WriteServerCharacterEventRequest request) {
         FutureTask<PlayFabResult<WriteEventResponse>> task = new FutureTask(new Callable<PlayFabResult<WriteEventResponse>>() {
             public PlayFabResult<WriteEventResponse> call() throws Exception {
-                return privateWriteCharacterEventAsync(request);
+                return privateWriteCharacterEventAsync(null, request);
             }
         });
         try {
@@ -8353,10 +8221,14 @@ public class PlayFabServerAPI {
 
     /** Writes a character-based event into PlayStream. */
     @SuppressWarnings("unchecked")
-    private static PlayFabResult<WriteEventResponse> privateWriteCharacterEventAsync(final WriteServerCharacterEventRequest request) throws Exception {
-        if (PlayFabSettings.DeveloperSecretKey == null) throw new Exception ("Must have PlayFabSettings.DeveloperSecretKey set to call this method");
+    static PlayFabResult<WriteEventResponse> privateWriteCharacterEventAsync(final PlayFabInstanceAPI instance, final WriteServerCharacterEventRequest request) throws Exception {
+        final PlayFabApiContext context = PlayFabInstanceAPI.contextOf(instance);
+        PlayFabFuture<PlayFabResult<WriteEventResponse>> routed = instance == null ? routeEvent(PlayFabClassicEventRouter.EventKind.Character, request.EventName, request.PlayFabId, request.CharacterId, request.Body, request.CustomTags, request.Timestamp) : null;
+        if (routed != null) return awaitRoutedEvent(routed);
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Server/WriteCharacterEvent"), request, "X-SecretKey", PlayFabSettings.DeveloperSecretKey);
+        if (context.getDeveloperSecretKey() == null) throw new Exception ("Must have PlayFabSettings.DeveloperSecretKey set to call this method");
+
+        FutureTask<Object> task = PlayFabHTTP.doPost(context.getURL("/Server/WriteCharacterEvent"), request, "X-SecretKey", context.getDeveloperSecretKey(), WriteEventResponse.class);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -8367,9 +8239,7 @@ public class PlayFabServerAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
-
-        PlayFabJsonSuccess<WriteEventResponse> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<WriteEventResponse>>(){}.getType());
+        PlayFabJsonSuccess<WriteEventResponse> resultData = (PlayFabJsonSuccess<WriteEventResponse>) httpResult;
         WriteEventResponse result = resultData.data;
 
         PlayFabResult<WriteEventResponse> pfResult = new PlayFabResult<WriteEventResponse>();
@@ -8386,7 +8256,7 @@ public class PlayFabServerAPI {
     public static FutureTask<PlayFabResult<WriteEventResponse>> WritePlayerEventAsync(final WriteServerPlayerEventRequest request) {
         return new FutureTask(new Callable<PlayFabResult<WriteEventResponse>>() {
             public PlayFabResult<WriteEventResponse> call() throws Exception {
-                return privateWritePlayerEventAsync(request);
+                return privateWritePlayerEventAsync(null, request);
             }
         });
     }
@@ -8400,7 +8270,7 @@ public class PlayFabServerAPI {
     public static PlayFabResult<WriteEventResponse> WritePlayerEvent(final WriteServerPlayerEventRequest request) {
         FutureTask<PlayFabResult<WriteEventResponse>> task = new FutureTask(new Callable<PlayFabResult<WriteEventResponse>>() {
             public PlayFabResult<WriteEventResponse> call() throws Exception {
-                return privateWritePlayerEventAsync(request);
+                return privateWritePlayerEventAsync(null, request);
             }
         });
         try {
@@ -8415,10 +8285,14 @@ public class PlayFabServerAPI {
 
     /** Writes a player-based event into PlayStream. */
     @SuppressWarnings("unchecked")
-    private static PlayFabResult<WriteEventResponse> privateWritePlayerEventAsync(final WriteServerPlayerEventRequest request) throws Exception {
-        if (PlayFabSettings.DeveloperSecretKey == null) throw new Exception ("Must have PlayFabSettings.DeveloperSecretKey set to call this method");
+    static PlayFabResult<WriteEventResponse> privateWritePlayerEventAsync(final PlayFabInstanceAPI instance, final WriteServerPlayerEventRequest request) throws Exception {
+        final PlayFabApiContext context = PlayFabInstanceAPI.contextOf(instance);
+        PlayFabFuture<PlayFabResult<WriteEventResponse>> routed = instance == null ? routeEvent(PlayFabClassicEventRouter.EventKind.Player, request.EventName, request.PlayFabId, null, request.Body, request.CustomTags, request.Timestamp) : null;
+        if (routed != null) return awaitRoutedEvent(routed);
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Server/WritePlayerEvent"), request, "X-SecretKey", PlayFabSettings.DeveloperSecretKey);
+        if (context.getDeveloperSecretKey() == null) throw new Exception ("Must have PlayFabSettings.DeveloperSecretKey set to call this method");
+
+        FutureTask<Object> task = PlayFabHTTP.doPost(context.getURL("/Server/WritePlayerEvent"), request, "X-SecretKey", context.getDeveloperSecretKey(), WriteEventResponse.class);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -8429,9 +8303,7 @@ public class PlayFabServerAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
-
-        PlayFabJsonSuccess<WriteEventResponse> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<WriteEventResponse>>(){}.getType());
+        PlayFabJsonSuccess<WriteEventResponse> resultData = (PlayFabJsonSuccess<WriteEventResponse>) httpResult;
         WriteEventResponse result = resultData.data;
 
         PlayFabResult<WriteEventResponse> pfResult = new PlayFabResult<WriteEventResponse>();
@@ -8448,7 +8320,7 @@ public class PlayFabServerAPI {
     public static FutureTask<PlayFabResult<WriteEventResponse>> WriteTitleEventAsync(final WriteTitleEventRequest request) {
         return new FutureTask(new Callable<PlayFabResult<WriteEventResponse>>() {
             public PlayFabResult<WriteEventResponse> call() throws Exception {
-                return privateWriteTitleEventAsync(request);
+                return privateWriteTitleEventAsync(null, request);
             }
         });
     }
@@ -8462,7 +8334,7 @@ public class PlayFabServerAPI {
     public static PlayFabResult<WriteEventResponse> WriteTitleEvent(final WriteTitleEventRequest request) {
         FutureTask<PlayFabResult<WriteEventResponse>> task = new FutureTask(new Callable<PlayFabResult<WriteEventResponse>>() {
             public PlayFabResult<WriteEventResponse> call() throws Exception {
-                return privateWriteTitleEventAsync(request);
+                return privateWriteTitleEventAsync(null, request);
             }
         });
         try {
@@ -8477,10 +8349,14 @@ public class PlayFabServerAPI {
 
     /** Writes a title-based event into PlayStream. */
     @SuppressWarnings("unchecked")
-    private static PlayFabResult<WriteEventResponse> privateWriteTitleEventAsync(final WriteTitleEventRequest request) throws Exception {
-        if (PlayFabSettings.DeveloperSecretKey == null) throw new Exception ("Must have PlayFabSettings.DeveloperSecretKey set to call this method");
+    static PlayFabResult<WriteEventResponse> privateWriteTitleEventAsync(final PlayFabInstanceAPI instance, final WriteTitleEventRequest request) throws Exception {
+        final PlayFabApiContext context = PlayFabInstanceAPI.contextOf(instance);
+        PlayFabFuture<PlayFabResult<WriteEventResponse>> routed = instance == null ? routeEvent(PlayFabClassicEventRouter.EventKind.Title, request.EventName, null, null, request.Body, request.CustomTags, request.Timestamp) : null;
+        if (routed != null) return awaitRoutedEvent(routed);
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Server/WriteTitleEvent"), request, "X-SecretKey", PlayFabSettings.DeveloperSecretKey);
+        if (context.getDeveloperSecretKey() == null) throw new Exception ("Must have PlayFabSettings.DeveloperSecretKey set to call this method");
+
+        FutureTask<Object> task = PlayFabHTTP.doPost(context.getURL("/Server/WriteTitleEvent"), request, "X-SecretKey", context.getDeveloperSecretKey(), WriteEventResponse.class);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -8491,9 +8367,7 @@ public class PlayFabServerAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
-
-        PlayFabJsonSuccess<WriteEventResponse> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<WriteEventResponse>>(){}.getType());
+        PlayFabJsonSuccess<WriteEventResponse> resultData = (PlayFabJsonSuccess<WriteEventResponse>) httpResult;
         WriteEventResponse result = resultData.data;
 
         PlayFabResult<WriteEventResponse> pfResult = new PlayFabResult<WriteEventResponse>();
@@ -8501,4 +8375,1850 @@ public class PlayFabServerAPI {
         return pfResult;
     }
 
+    /**
+     * Hands a classic event to PlayFabSettings.ClassicEventRouter, if one is set
+     * @return a future for the event's result, or null to send it with the classic call
+     */
+    private static PlayFabFuture<PlayFabResult<WriteEventResponse>> routeEvent(PlayFabClassicEventRouter.EventKind kind, String eventName, String playFabId, String characterId, Map<String,Object> body, Map<String,String> customTags, Date timestamp) {
+        PlayFabClassicEventRouter router = PlayFabSettings.ClassicEventRouter;
+        PlayFabFuture<PlayFabResult<String>> eventId = router != null ? router.route(kind, eventName, playFabId, characterId, body, customTags, timestamp) : null;
+        if (eventId == null)
+            return null;
+        return eventId.then(new PlayFabFuture.Transform<PlayFabResult<String>, PlayFabResult<WriteEventResponse>>() {
+            public PlayFabResult<WriteEventResponse> apply(PlayFabResult<String> value) {
+                PlayFabResult<WriteEventResponse> result = new PlayFabResult<WriteEventResponse>();
+                if (value.Error != null) {
+                    if (PlayFabSettings.GlobalErrorHandler != null)
+                        PlayFabSettings.GlobalErrorHandler.callback(value.Error);
+                    result.Error = value.Error;
+                } else {
+                    result.Result = new WriteEventResponse();
+                    result.Result.EventId = value.Result;
+                }
+                return result;
+            }
+        });
+    }
+
+    /**
+     * @return the routed event's result once its batch is sent, or at once with no EventId if
+     * PlayFabSettings.ClassicEventWaitForBatch is false, leaving a failure to PlayFabSettings.GlobalErrorHandler
+     */
+    private static PlayFabResult<WriteEventResponse> awaitRoutedEvent(PlayFabFuture<PlayFabResult<WriteEventResponse>> routed) throws Exception {
+        if (PlayFabSettings.ClassicEventWaitForBatch)
+            return routed.get();
+        PlayFabResult<WriteEventResponse> queued = new PlayFabResult<WriteEventResponse>();
+        queued.Result = new WriteEventResponse();
+        return queued;
+    }
+
+    /**
+     * @return Non-blocking versions of every PlayFabServerAPI call, started on PlayFabSettings.AsyncExecutor
+     */
+    public static Async async() {
+        return async;
+    }
+
+    /**
+     * Non-blocking versions of the PlayFabServerAPI calls. Each call is already running when its PlayFabFuture is returned.
+     */
+    public static class Async {
+        private Async() {
+        }
+
+        /**
+         * Increments the character's balance of the specified virtual currency by the stated amount
+         * @param request AddCharacterVirtualCurrencyRequest
+         * @return Running future that will complete with ModifyCharacterVirtualCurrencyResult
+         */
+        public PlayFabFuture<PlayFabResult<ModifyCharacterVirtualCurrencyResult>> AddCharacterVirtualCurrency(final AddCharacterVirtualCurrencyRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<ModifyCharacterVirtualCurrencyResult>>() {
+                public PlayFabResult<ModifyCharacterVirtualCurrencyResult> call() throws Exception {
+                    return privateAddCharacterVirtualCurrencyAsync(null, request);
+                }
+            });
+        }
+
+        /**
+         * Adds the Friend user to the friendlist of the user with PlayFabId. At least one of
+         * FriendPlayFabId,FriendUsername,FriendEmail, or FriendTitleDisplayName should be initialized.
+         * @param request AddFriendRequest
+         * @return Running future that will complete with EmptyResponse
+         */
+        public PlayFabFuture<PlayFabResult<EmptyResponse>> AddFriend(final AddFriendRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<EmptyResponse>>() {
+                public PlayFabResult<EmptyResponse> call() throws Exception {
+                    return privateAddFriendAsync(null, request);
+                }
+            });
+        }
+
+        /**
+         * Adds the specified generic service identifier to the player's PlayFab account. This is designed to allow for a PlayFab
+         * ID lookup of any arbitrary service identifier a title wants to add. This identifier should never be used as
+         * authentication credentials, as the intent is that it is easily accessible by other players.
+         * @param request AddGenericIDRequest
+         * @return Running future that will complete with EmptyResult
+         */
+        public PlayFabFuture<PlayFabResult<EmptyResult>> AddGenericID(final AddGenericIDRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<EmptyResult>>() {
+                public PlayFabResult<EmptyResult> call() throws Exception {
+                    return privateAddGenericIDAsync(null, request);
+                }
+            });
+        }
+
+        /**
+         * Adds a given tag to a player profile. The tag's namespace is automatically generated based on the source of the tag.
+         * @param request AddPlayerTagRequest
+         * @return Running future that will complete with AddPlayerTagResult
+         */
+        public PlayFabFuture<PlayFabResult<AddPlayerTagResult>> AddPlayerTag(final AddPlayerTagRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<AddPlayerTagResult>>() {
+                public PlayFabResult<AddPlayerTagResult> call() throws Exception {
+                    return privateAddPlayerTagAsync(null, request);
+                }
+            });
+        }
+
+        /**
+         * Adds users to the set of those able to update both the shared data, as well as the set of users in the group. Only users
+         * in the group (and the server) can add new members. Shared Groups are designed for sharing data between a very small
+         * number of players, please see our guide:
+         * https://docs.microsoft.com/gaming/playfab/features/social/groups/using-shared-group-data
+         * @param request AddSharedGroupMembersRequest
+         * @return Running future that will complete with AddSharedGroupMembersResult
+         */
+        public PlayFabFuture<PlayFabResult<AddSharedGroupMembersResult>> AddSharedGroupMembers(final AddSharedGroupMembersRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<AddSharedGroupMembersResult>>() {
+                public PlayFabResult<AddSharedGroupMembersResult> call() throws Exception {
+                    return privateAddSharedGroupMembersAsync(null, request);
+                }
+            });
+        }
+
+        /**
+         * Increments the user's balance of the specified virtual currency by the stated amount
+         * @param request AddUserVirtualCurrencyRequest
+         * @return Running future that will complete with ModifyUserVirtualCurrencyResult
+         */
+        public PlayFabFuture<PlayFabResult<ModifyUserVirtualCurrencyResult>> AddUserVirtualCurrency(final AddUserVirtualCurrencyRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<ModifyUserVirtualCurrencyResult>>() {
+                public PlayFabResult<ModifyUserVirtualCurrencyResult> call() throws Exception {
+                    return privateAddUserVirtualCurrencyAsync(null, request);
+                }
+            });
+        }
+
+        /**
+         * Validated a client's session ticket, and if successful, returns details for that user
+         * @param request AuthenticateSessionTicketRequest
+         * @return Running future that will complete with AuthenticateSessionTicketResult
+         */
+        public PlayFabFuture<PlayFabResult<AuthenticateSessionTicketResult>> AuthenticateSessionTicket(final AuthenticateSessionTicketRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<AuthenticateSessionTicketResult>>() {
+                public PlayFabResult<AuthenticateSessionTicketResult> call() throws Exception {
+                    return privateAuthenticateSessionTicketAsync(null, request);
+                }
+            });
+        }
+
+        /**
+         * Awards the specified users the specified Steam achievements
+         * @param request AwardSteamAchievementRequest
+         * @return Running future that will complete with AwardSteamAchievementResult
+         */
+        public PlayFabFuture<PlayFabResult<AwardSteamAchievementResult>> AwardSteamAchievement(final AwardSteamAchievementRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<AwardSteamAchievementResult>>() {
+                public PlayFabResult<AwardSteamAchievementResult> call() throws Exception {
+                    return privateAwardSteamAchievementAsync(null, request);
+                }
+            });
+        }
+
+        /**
+         * Bans users by PlayFab ID with optional IP address, or MAC address for the provided game.
+         * @param request BanUsersRequest
+         * @return Running future that will complete with BanUsersResult
+         */
+        public PlayFabFuture<PlayFabResult<BanUsersResult>> BanUsers(final BanUsersRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<BanUsersResult>>() {
+                public PlayFabResult<BanUsersResult> call() throws Exception {
+                    return privateBanUsersAsync(null, request);
+                }
+            });
+        }
+
+        /**
+         * Consume uses of a consumable item. When all uses are consumed, it will be removed from the player's inventory.
+         * @param request ConsumeItemRequest
+         * @return Running future that will complete with ConsumeItemResult
+         */
+        public PlayFabFuture<PlayFabResult<ConsumeItemResult>> ConsumeItem(final ConsumeItemRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<ConsumeItemResult>>() {
+                public PlayFabResult<ConsumeItemResult> call() throws Exception {
+                    return privateConsumeItemAsync(null, request);
+                }
+            });
+        }
+
+        /**
+         * Requests the creation of a shared group object, containing key/value pairs which may be updated by all members of the
+         * group. When created by a server, the group will initially have no members. Shared Groups are designed for sharing data
+         * between a very small number of players, please see our guide:
+         * https://docs.microsoft.com/gaming/playfab/features/social/groups/using-shared-group-data
+         * @param request CreateSharedGroupRequest
+         * @return Running future that will complete with CreateSharedGroupResult
+         */
+        public PlayFabFuture<PlayFabResult<CreateSharedGroupResult>> CreateSharedGroup(final CreateSharedGroupRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<CreateSharedGroupResult>>() {
+                public PlayFabResult<CreateSharedGroupResult> call() throws Exception {
+                    return privateCreateSharedGroupAsync(null, request);
+                }
+            });
+        }
+
+        /**
+         * Deletes the specific character ID from the specified user.
+         * @param request DeleteCharacterFromUserRequest
+         * @return Running future that will complete with DeleteCharacterFromUserResult
+         */
+        public PlayFabFuture<PlayFabResult<DeleteCharacterFromUserResult>> DeleteCharacterFromUser(final DeleteCharacterFromUserRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<DeleteCharacterFromUserResult>>() {
+                public PlayFabResult<DeleteCharacterFromUserResult> call() throws Exception {
+                    return privateDeleteCharacterFromUserAsync(null, request);
+                }
+            });
+        }
+
+        /**
+         * Removes a user's player account from a title and deletes all associated data
+         * @param request DeletePlayerRequest
+         * @return Running future that will complete with DeletePlayerResult
+         */
+        public PlayFabFuture<PlayFabResult<DeletePlayerResult>> DeletePlayer(final DeletePlayerRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<DeletePlayerResult>>() {
+                public PlayFabResult<DeletePlayerResult> call() throws Exception {
+                    return privateDeletePlayerAsync(null, request);
+                }
+            });
+        }
+
+        /**
+         * Deletes push notification template for title
+         * @param request DeletePushNotificationTemplateRequest
+         * @return Running future that will complete with DeletePushNotificationTemplateResult
+         */
+        public PlayFabFuture<PlayFabResult<DeletePushNotificationTemplateResult>> DeletePushNotificationTemplate(final DeletePushNotificationTemplateRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<DeletePushNotificationTemplateResult>>() {
+                public PlayFabResult<DeletePushNotificationTemplateResult> call() throws Exception {
+                    return privateDeletePushNotificationTemplateAsync(null, request);
+                }
+            });
+        }
+
+        /**
+         * Deletes a shared group, freeing up the shared group ID to be reused for a new group. Shared Groups are designed for
+         * sharing data between a very small number of players, please see our guide:
+         * https://docs.microsoft.com/gaming/playfab/features/social/groups/using-shared-group-data
+         * @param request DeleteSharedGroupRequest
+         * @return Running future that will complete with EmptyResponse
+         */
+        public PlayFabFuture<PlayFabResult<EmptyResponse>> DeleteSharedGroup(final DeleteSharedGroupRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<EmptyResponse>>() {
+                public PlayFabResult<EmptyResponse> call() throws Exception {
+                    return privateDeleteSharedGroupAsync(null, request);
+                }
+            });
+        }
+
+        /**
+         * Inform the matchmaker that a Game Server Instance is removed.
+         * @param request DeregisterGameRequest
+         * @return Running future that will complete with DeregisterGameResponse
+         */
+        public PlayFabFuture<PlayFabResult<DeregisterGameResponse>> DeregisterGame(final DeregisterGameRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<DeregisterGameResponse>>() {
+                public PlayFabResult<DeregisterGameResponse> call() throws Exception {
+                    return privateDeregisterGameAsync(null, request);
+                }
+            });
+        }
+
+        /**
+         * Returns the result of an evaluation of a Random Result Table - the ItemId from the game Catalog which would have been
+         * added to the player inventory, if the Random Result Table were added via a Bundle or a call to UnlockContainer.
+         * @param request EvaluateRandomResultTableRequest
+         * @return Running future that will complete with EvaluateRandomResultTableResult
+         */
+        public PlayFabFuture<PlayFabResult<EvaluateRandomResultTableResult>> EvaluateRandomResultTable(final EvaluateRandomResultTableRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<EvaluateRandomResultTableResult>>() {
+                public PlayFabResult<EvaluateRandomResultTableResult> call() throws Exception {
+                    return privateEvaluateRandomResultTableAsync(null, request);
+                }
+            });
+        }
+
+        /**
+         * Executes a CloudScript function, with the 'currentPlayerId' variable set to the specified PlayFabId parameter value.
+         * @param request ExecuteCloudScriptServerRequest
+         * @return Running future that will complete with ExecuteCloudScriptResult
+         */
+        public PlayFabFuture<PlayFabResult<ExecuteCloudScriptResult>> ExecuteCloudScript(final ExecuteCloudScriptServerRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<ExecuteCloudScriptResult>>() {
+                public PlayFabResult<ExecuteCloudScriptResult> call() throws Exception {
+                    return privateExecuteCloudScriptAsync(null, request);
+                }
+            });
+        }
+
+        /**
+         * Retrieves an array of player segment definitions. Results from this can be used in subsequent API calls such as
+         * GetPlayersInSegment which requires a Segment ID. While segment names can change the ID for that segment will not change.
+         * @param request GetAllSegmentsRequest
+         * @return Running future that will complete with GetAllSegmentsResult
+         */
+        public PlayFabFuture<PlayFabResult<GetAllSegmentsResult>> GetAllSegments(final GetAllSegmentsRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<GetAllSegmentsResult>>() {
+                public PlayFabResult<GetAllSegmentsResult> call() throws Exception {
+                    return privateGetAllSegmentsAsync(null, request);
+                }
+            });
+        }
+
+        /**
+         * Lists all of the characters that belong to a specific user. CharacterIds are not globally unique; characterId must be
+         * evaluated with the parent PlayFabId to guarantee uniqueness.
+         * @param request ListUsersCharactersRequest
+         * @return Running future that will complete with ListUsersCharactersResult
+         */
+        public PlayFabFuture<PlayFabResult<ListUsersCharactersResult>> GetAllUsersCharacters(final ListUsersCharactersRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<ListUsersCharactersResult>>() {
+                public PlayFabResult<ListUsersCharactersResult> call() throws Exception {
+                    return privateGetAllUsersCharactersAsync(null, request);
+                }
+            });
+        }
+
+        /**
+         * Retrieves the specified version of the title's catalog of virtual goods, including all defined properties
+         * @param request GetCatalogItemsRequest
+         * @return Running future that will complete with GetCatalogItemsResult
+         */
+        public PlayFabFuture<PlayFabResult<GetCatalogItemsResult>> GetCatalogItems(final GetCatalogItemsRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<GetCatalogItemsResult>>() {
+                public PlayFabResult<GetCatalogItemsResult> call() throws Exception {
+                    return privateGetCatalogItemsAsync(null, request);
+                }
+            });
+        }
+
+        /**
+         * Retrieves the title-specific custom data for the user which is readable and writable by the client
+         * @param request GetCharacterDataRequest
+         * @return Running future that will complete with GetCharacterDataResult
+         */
+        public PlayFabFuture<PlayFabResult<GetCharacterDataResult>> GetCharacterData(final GetCharacterDataRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<GetCharacterDataResult>>() {
+                public PlayFabResult<GetCharacterDataResult> call() throws Exception {
+                    return privateGetCharacterDataAsync(null, request);
+                }
+            });
+        }
+
+        /**
+         * Retrieves the title-specific custom data for the user's character which cannot be accessed by the client
+         * @param request GetCharacterDataRequest
+         * @return Running future that will complete with GetCharacterDataResult
+         */
+        public PlayFabFuture<PlayFabResult<GetCharacterDataResult>> GetCharacterInternalData(final GetCharacterDataRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<GetCharacterDataResult>>() {
+                public PlayFabResult<GetCharacterDataResult> call() throws Exception {
+                    return privateGetCharacterInternalDataAsync(null, request);
+                }
+            });
+        }
+
+        /**
+         * Retrieves the specified character's current inventory of virtual goods
+         * @param request GetCharacterInventoryRequest
+         * @return Running future that will complete with GetCharacterInventoryResult
+         */
+        public PlayFabFuture<PlayFabResult<GetCharacterInventoryResult>> GetCharacterInventory(final GetCharacterInventoryRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<GetCharacterInventoryResult>>() {
+                public PlayFabResult<GetCharacterInventoryResult> call() throws Exception {
+                    return privateGetCharacterInventoryAsync(null, request);
+                }
+            });
+        }
+
+        /**
+         * Retrieves a list of ranked characters for the given statistic, starting from the indicated point in the leaderboard
+         * @param request GetCharacterLeaderboardRequest
+         * @return Running future that will complete with GetCharacterLeaderboardResult
+         */
+        public PlayFabFuture<PlayFabResult<GetCharacterLeaderboardResult>> GetCharacterLeaderboard(final GetCharacterLeaderboardRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<GetCharacterLeaderboardResult>>() {
+                public PlayFabResult<GetCharacterLeaderboardResult> call() throws Exception {
+                    return privateGetCharacterLeaderboardAsync(null, request);
+                }
+            });
+        }
+
+        /**
+         * Retrieves the title-specific custom data for the user's character which can only be read by the client
+         * @param request GetCharacterDataRequest
+         * @return Running future that will complete with GetCharacterDataResult
+         */
+        public PlayFabFuture<PlayFabResult<GetCharacterDataResult>> GetCharacterReadOnlyData(final GetCharacterDataRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<GetCharacterDataResult>>() {
+                public PlayFabResult<GetCharacterDataResult> call() throws Exception {
+                    return privateGetCharacterReadOnlyDataAsync(null, request);
+                }
+            });
+        }
+
+        /**
+         * Retrieves the details of all title-specific statistics for the specific character
+         * @param request GetCharacterStatisticsRequest
+         * @return Running future that will complete with GetCharacterStatisticsResult
+         */
+        public PlayFabFuture<PlayFabResult<GetCharacterStatisticsResult>> GetCharacterStatistics(final GetCharacterStatisticsRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<GetCharacterStatisticsResult>>() {
+                public PlayFabResult<GetCharacterStatisticsResult> call() throws Exception {
+                    return privateGetCharacterStatisticsAsync(null, request);
+                }
+            });
+        }
+
+        /**
+         * This API retrieves a pre-signed URL for accessing a content file for the title. A subsequent HTTP GET to the returned
+         * URL will attempt to download the content. A HEAD query to the returned URL will attempt to retrieve the metadata of the
+         * content. Note that a successful result does not guarantee the existence of this content - if it has not been uploaded,
+         * the query to retrieve the data will fail. See this post for more information:
+         * https://community.playfab.com/hc/community/posts/205469488-How-to-upload-files-to-PlayFab-s-Content-Service. Also,
+         * please be aware that the Content service is specifically PlayFab's CDN offering, for which standard CDN rates apply.
+         * @param request GetContentDownloadUrlRequest
+         * @return Running future that will complete with GetContentDownloadUrlResult
+         */
+        public PlayFabFuture<PlayFabResult<GetContentDownloadUrlResult>> GetContentDownloadUrl(final GetContentDownloadUrlRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<GetContentDownloadUrlResult>>() {
+                public PlayFabResult<GetContentDownloadUrlResult> call() throws Exception {
+                    return privateGetContentDownloadUrlAsync(null, request);
+                }
+            });
+        }
+
+        /**
+         * Retrieves a list of ranked friends of the given player for the given statistic, starting from the indicated point in the
+         * leaderboard
+         * @param request GetFriendLeaderboardRequest
+         * @return Running future that will complete with GetLeaderboardResult
+         */
+        public PlayFabFuture<PlayFabResult<GetLeaderboardResult>> GetFriendLeaderboard(final GetFriendLeaderboardRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<GetLeaderboardResult>>() {
+                public PlayFabResult<GetLeaderboardResult> call() throws Exception {
+                    return privateGetFriendLeaderboardAsync(null, request);
+                }
+            });
+        }
+
+        /**
+         * Retrieves the current friends for the user with PlayFabId, constrained to users who have PlayFab accounts. Friends from
+         * linked accounts (Facebook, Steam) are also included. You may optionally exclude some linked services' friends.
+         * @param request GetFriendsListRequest
+         * @return Running future that will complete with GetFriendsListResult
+         */
+        public PlayFabFuture<PlayFabResult<GetFriendsListResult>> GetFriendsList(final GetFriendsListRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<GetFriendsListResult>>() {
+                public PlayFabResult<GetFriendsListResult> call() throws Exception {
+                    return privateGetFriendsListAsync(null, request);
+                }
+            });
+        }
+
+        /**
+         * Retrieves a list of ranked users for the given statistic, starting from the indicated point in the leaderboard
+         * @param request GetLeaderboardRequest
+         * @return Running future that will complete with GetLeaderboardResult
+         */
+        public PlayFabFuture<PlayFabResult<GetLeaderboardResult>> GetLeaderboard(final GetLeaderboardRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<GetLeaderboardResult>>() {
+                public PlayFabResult<GetLeaderboardResult> call() throws Exception {
+                    return privateGetLeaderboardAsync(null, request);
+                }
+            });
+        }
+
+        /**
+         * Retrieves a list of ranked characters for the given statistic, centered on the requested user
+         * @param request GetLeaderboardAroundCharacterRequest
+         * @return Running future that will complete with GetLeaderboardAroundCharacterResult
+         */
+        public PlayFabFuture<PlayFabResult<GetLeaderboardAroundCharacterResult>> GetLeaderboardAroundCharacter(final GetLeaderboardAroundCharacterRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<GetLeaderboardAroundCharacterResult>>() {
+                public PlayFabResult<GetLeaderboardAroundCharacterResult> call() throws Exception {
+                    return privateGetLeaderboardAroundCharacterAsync(null, request);
+                }
+            });
+        }
+
+        /**
+         * Retrieves a list of ranked users for the given statistic, centered on the currently signed-in user
+         * @param request GetLeaderboardAroundUserRequest
+         * @return Running future that will complete with GetLeaderboardAroundUserResult
+         */
+        public PlayFabFuture<PlayFabResult<GetLeaderboardAroundUserResult>> GetLeaderboardAroundUser(final GetLeaderboardAroundUserRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<GetLeaderboardAroundUserResult>>() {
+                public PlayFabResult<GetLeaderboardAroundUserResult> call() throws Exception {
+                    return privateGetLeaderboardAroundUserAsync(null, request);
+                }
+            });
+        }
+
+        /**
+         * Retrieves a list of all of the user's characters for the given statistic.
+         * @param request GetLeaderboardForUsersCharactersRequest
+         * @return Running future that will complete with GetLeaderboardForUsersCharactersResult
+         */
+        public PlayFabFuture<PlayFabResult<GetLeaderboardForUsersCharactersResult>> GetLeaderboardForUserCharacters(final GetLeaderboardForUsersCharactersRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<GetLeaderboardForUsersCharactersResult>>() {
+                public PlayFabResult<GetLeaderboardForUsersCharactersResult> call() throws Exception {
+                    return privateGetLeaderboardForUserCharactersAsync(null, request);
+                }
+            });
+        }
+
+        /**
+         * Returns whatever info is requested in the response for the user. Note that PII (like email address, facebook id) may be
+         * returned. All parameters default to false.
+         * @param request GetPlayerCombinedInfoRequest
+         * @return Running future that will complete with GetPlayerCombinedInfoResult
+         */
+        public PlayFabFuture<PlayFabResult<GetPlayerCombinedInfoResult>> GetPlayerCombinedInfo(final GetPlayerCombinedInfoRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<GetPlayerCombinedInfoResult>>() {
+                public PlayFabResult<GetPlayerCombinedInfoResult> call() throws Exception {
+                    return privateGetPlayerCombinedInfoAsync(null, request);
+                }
+            });
+        }
+
+        /**
+         * Retrieves the player's profile
+         * @param request GetPlayerProfileRequest
+         * @return Running future that will complete with GetPlayerProfileResult
+         */
+        public PlayFabFuture<PlayFabResult<GetPlayerProfileResult>> GetPlayerProfile(final GetPlayerProfileRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<GetPlayerProfileResult>>() {
+                public PlayFabResult<GetPlayerProfileResult> call() throws Exception {
+                    return privateGetPlayerProfileAsync(null, request);
+                }
+            });
+        }
+
+        /**
+         * List all segments that a player currently belongs to at this moment in time.
+         * @param request GetPlayersSegmentsRequest
+         * @return Running future that will complete with GetPlayerSegmentsResult
+         */
+        public PlayFabFuture<PlayFabResult<GetPlayerSegmentsResult>> GetPlayerSegments(final GetPlayersSegmentsRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<GetPlayerSegmentsResult>>() {
+                public PlayFabResult<GetPlayerSegmentsResult> call() throws Exception {
+                    return privateGetPlayerSegmentsAsync(null, request);
+                }
+            });
+        }
+
+        /**
+         * Allows for paging through all players in a given segment. This API creates a snapshot of all player profiles that match
+         * the segment definition at the time of its creation and lives through the Total Seconds to Live, refreshing its life span
+         * on each subsequent use of the Continuation Token. Profiles that change during the course of paging will not be reflected
+         * in the results. AB Test segments are currently not supported by this operation. NOTE: This API is limited to being
+         * called 30 times in one minute. You will be returned an error if you exceed this threshold.
+         * @param request GetPlayersInSegmentRequest
+         * @return Running future that will complete with GetPlayersInSegmentResult
+         */
+        public PlayFabFuture<PlayFabResult<GetPlayersInSegmentResult>> GetPlayersInSegment(final GetPlayersInSegmentRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<GetPlayersInSegmentResult>>() {
+                public PlayFabResult<GetPlayersInSegmentResult> call() throws Exception {
+                    return privateGetPlayersInSegmentAsync(null, request);
+                }
+            });
+        }
+
+        /**
+         * Retrieves the current version and values for the indicated statistics, for the local player.
+         * @param request GetPlayerStatisticsRequest
+         * @return Running future that will complete with GetPlayerStatisticsResult
+         */
+        public PlayFabFuture<PlayFabResult<GetPlayerStatisticsResult>> GetPlayerStatistics(final GetPlayerStatisticsRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<GetPlayerStatisticsResult>>() {
+                public PlayFabResult<GetPlayerStatisticsResult> call() throws Exception {
+                    return privateGetPlayerStatisticsAsync(null, request);
+                }
+            });
+        }
+
+        /**
+         * Retrieves the information on the available versions of the specified statistic.
+         * @param request GetPlayerStatisticVersionsRequest
+         * @return Running future that will complete with GetPlayerStatisticVersionsResult
+         */
+        public PlayFabFuture<PlayFabResult<GetPlayerStatisticVersionsResult>> GetPlayerStatisticVersions(final GetPlayerStatisticVersionsRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<GetPlayerStatisticVersionsResult>>() {
+                public PlayFabResult<GetPlayerStatisticVersionsResult> call() throws Exception {
+                    return privateGetPlayerStatisticVersionsAsync(null, request);
+                }
+            });
+        }
+
+        /**
+         * Get all tags with a given Namespace (optional) from a player profile.
+         * @param request GetPlayerTagsRequest
+         * @return Running future that will complete with GetPlayerTagsResult
+         */
+        public PlayFabFuture<PlayFabResult<GetPlayerTagsResult>> GetPlayerTags(final GetPlayerTagsRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<GetPlayerTagsResult>>() {
+                public PlayFabResult<GetPlayerTagsResult> call() throws Exception {
+                    return privateGetPlayerTagsAsync(null, request);
+                }
+            });
+        }
+
+        /**
+         * Retrieves the unique PlayFab identifiers for the given set of Facebook identifiers.
+         * @param request GetPlayFabIDsFromFacebookIDsRequest
+         * @return Running future that will complete with GetPlayFabIDsFromFacebookIDsResult
+         */
+        public PlayFabFuture<PlayFabResult<GetPlayFabIDsFromFacebookIDsResult>> GetPlayFabIDsFromFacebookIDs(final GetPlayFabIDsFromFacebookIDsRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<GetPlayFabIDsFromFacebookIDsResult>>() {
+                public PlayFabResult<GetPlayFabIDsFromFacebookIDsResult> call() throws Exception {
+                    return privateGetPlayFabIDsFromFacebookIDsAsync(null, request);
+                }
+            });
+        }
+
+        /**
+         * Retrieves the unique PlayFab identifiers for the given set of Facebook Instant Games identifiers.
+         * @param request GetPlayFabIDsFromFacebookInstantGamesIdsRequest
+         * @return Running future that will complete with GetPlayFabIDsFromFacebookInstantGamesIdsResult
+         */
+        public PlayFabFuture<PlayFabResult<GetPlayFabIDsFromFacebookInstantGamesIdsResult>> GetPlayFabIDsFromFacebookInstantGamesIds(final GetPlayFabIDsFromFacebookInstantGamesIdsRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<GetPlayFabIDsFromFacebookInstantGamesIdsResult>>() {
+                public PlayFabResult<GetPlayFabIDsFromFacebookInstantGamesIdsResult> call() throws Exception {
+                    return privateGetPlayFabIDsFromFacebookInstantGamesIdsAsync(null, request);
+                }
+            });
+        }
+
+        /**
+         * Retrieves the unique PlayFab identifiers for the given set of generic service identifiers. A generic identifier is the
+         * service name plus the service-specific ID for the player, as specified by the title when the generic identifier was
+         * added to the player account.
+         * @param request GetPlayFabIDsFromGenericIDsRequest
+         * @return Running future that will complete with GetPlayFabIDsFromGenericIDsResult
+         */
+        public PlayFabFuture<PlayFabResult<GetPlayFabIDsFromGenericIDsResult>> GetPlayFabIDsFromGenericIDs(final GetPlayFabIDsFromGenericIDsRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<GetPlayFabIDsFromGenericIDsResult>>() {
+                public PlayFabResult<GetPlayFabIDsFromGenericIDsResult> call() throws Exception {
+                    return privateGetPlayFabIDsFromGenericIDsAsync(null, request);
+                }
+            });
+        }
+
+        /**
+         * Retrieves the unique PlayFab identifiers for the given set of Nintendo Switch Device identifiers.
+         * @param request GetPlayFabIDsFromNintendoSwitchDeviceIdsRequest
+         * @return Running future that will complete with GetPlayFabIDsFromNintendoSwitchDeviceIdsResult
+         */
+        public PlayFabFuture<PlayFabResult<GetPlayFabIDsFromNintendoSwitchDeviceIdsResult>> GetPlayFabIDsFromNintendoSwitchDeviceIds(final GetPlayFabIDsFromNintendoSwitchDeviceIdsRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<GetPlayFabIDsFromNintendoSwitchDeviceIdsResult>>() {
+                public PlayFabResult<GetPlayFabIDsFromNintendoSwitchDeviceIdsResult> call() throws Exception {
+                    return privateGetPlayFabIDsFromNintendoSwitchDeviceIdsAsync(null, request);
+                }
+            });
+        }
+
+        /**
+         * Retrieves the unique PlayFab identifiers for the given set of PlayStation Network identifiers.
+         * @param request GetPlayFabIDsFromPSNAccountIDsRequest
+         * @return Running future that will complete with GetPlayFabIDsFromPSNAccountIDsResult
+         */
+        public PlayFabFuture<PlayFabResult<GetPlayFabIDsFromPSNAccountIDsResult>> GetPlayFabIDsFromPSNAccountIDs(final GetPlayFabIDsFromPSNAccountIDsRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<GetPlayFabIDsFromPSNAccountIDsResult>>() {
+                public PlayFabResult<GetPlayFabIDsFromPSNAccountIDsResult> call() throws Exception {
+                    return privateGetPlayFabIDsFromPSNAccountIDsAsync(null, request);
+                }
+            });
+        }
+
+        /**
+         * Retrieves the unique PlayFab identifiers for the given set of Steam identifiers. The Steam identifiers are the profile
+         * IDs for the user accounts, available as SteamId in the Steamworks Community API calls.
+         * @param request GetPlayFabIDsFromSteamIDsRequest
+         * @return Running future that will complete with GetPlayFabIDsFromSteamIDsResult
+         */
+        public PlayFabFuture<PlayFabResult<GetPlayFabIDsFromSteamIDsResult>> GetPlayFabIDsFromSteamIDs(final GetPlayFabIDsFromSteamIDsRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<GetPlayFabIDsFromSteamIDsResult>>() {
+                public PlayFabResult<GetPlayFabIDsFromSteamIDsResult> call() throws Exception {
+                    return privateGetPlayFabIDsFromSteamIDsAsync(null, request);
+                }
+            });
+        }
+
+        /**
+         * Retrieves the unique PlayFab identifiers for the given set of XboxLive identifiers.
+         * @param request GetPlayFabIDsFromXboxLiveIDsRequest
+         * @return Running future that will complete with GetPlayFabIDsFromXboxLiveIDsResult
+         */
+        public PlayFabFuture<PlayFabResult<GetPlayFabIDsFromXboxLiveIDsResult>> GetPlayFabIDsFromXboxLiveIDs(final GetPlayFabIDsFromXboxLiveIDsRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<GetPlayFabIDsFromXboxLiveIDsResult>>() {
+                public PlayFabResult<GetPlayFabIDsFromXboxLiveIDsResult> call() throws Exception {
+                    return privateGetPlayFabIDsFromXboxLiveIDsAsync(null, request);
+                }
+            });
+        }
+
+        /**
+         * Retrieves the key-value store of custom publisher settings
+         * @param request GetPublisherDataRequest
+         * @return Running future that will complete with GetPublisherDataResult
+         */
+        public PlayFabFuture<PlayFabResult<GetPublisherDataResult>> GetPublisherData(final GetPublisherDataRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<GetPublisherDataResult>>() {
+                public PlayFabResult<GetPublisherDataResult> call() throws Exception {
+                    return privateGetPublisherDataAsync(null, request);
+                }
+            });
+        }
+
+        /**
+         * Retrieves the configuration information for the specified random results tables for the title, including all ItemId
+         * values and weights
+         * @param request GetRandomResultTablesRequest
+         * @return Running future that will complete with GetRandomResultTablesResult
+         */
+        public PlayFabFuture<PlayFabResult<GetRandomResultTablesResult>> GetRandomResultTables(final GetRandomResultTablesRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<GetRandomResultTablesResult>>() {
+                public PlayFabResult<GetRandomResultTablesResult> call() throws Exception {
+                    return privateGetRandomResultTablesAsync(null, request);
+                }
+            });
+        }
+
+        /**
+         * Retrieves the associated PlayFab account identifiers for the given set of server custom identifiers.
+         * @param request GetServerCustomIDsFromPlayFabIDsRequest
+         * @return Running future that will complete with GetServerCustomIDsFromPlayFabIDsResult
+         */
+        public PlayFabFuture<PlayFabResult<GetServerCustomIDsFromPlayFabIDsResult>> GetServerCustomIDsFromPlayFabIDs(final GetServerCustomIDsFromPlayFabIDsRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<GetServerCustomIDsFromPlayFabIDsResult>>() {
+                public PlayFabResult<GetServerCustomIDsFromPlayFabIDsResult> call() throws Exception {
+                    return privateGetServerCustomIDsFromPlayFabIDsAsync(null, request);
+                }
+            });
+        }
+
+        /**
+         * Retrieves data stored in a shared group object, as well as the list of members in the group. The server can access all
+         * public and private group data. Shared Groups are designed for sharing data between a very small number of players,
+         * please see our guide: https://docs.microsoft.com/gaming/playfab/features/social/groups/using-shared-group-data
+         * @param request GetSharedGroupDataRequest
+         * @return Running future that will complete with GetSharedGroupDataResult
+         */
+        public PlayFabFuture<PlayFabResult<GetSharedGroupDataResult>> GetSharedGroupData(final GetSharedGroupDataRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<GetSharedGroupDataResult>>() {
+                public PlayFabResult<GetSharedGroupDataResult> call() throws Exception {
+                    return privateGetSharedGroupDataAsync(null, request);
+                }
+            });
+        }
+
+        /**
+         * Retrieves the set of items defined for the specified store, including all prices defined, for the specified player
+         * @param request GetStoreItemsServerRequest
+         * @return Running future that will complete with GetStoreItemsResult
+         */
+        public PlayFabFuture<PlayFabResult<GetStoreItemsResult>> GetStoreItems(final GetStoreItemsServerRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<GetStoreItemsResult>>() {
+                public PlayFabResult<GetStoreItemsResult> call() throws Exception {
+                    return privateGetStoreItemsAsync(null, request);
+                }
+            });
+        }
+
+        /**
+         * Retrieves the current server time
+         * @param request GetTimeRequest
+         * @return Running future that will complete with GetTimeResult
+         */
+        public PlayFabFuture<PlayFabResult<GetTimeResult>> GetTime(final GetTimeRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<GetTimeResult>>() {
+                public PlayFabResult<GetTimeResult> call() throws Exception {
+                    return privateGetTimeAsync(null, request);
+                }
+            });
+        }
+
+        /**
+         * Retrieves the key-value store of custom title settings
+         * @param request GetTitleDataRequest
+         * @return Running future that will complete with GetTitleDataResult
+         */
+        public PlayFabFuture<PlayFabResult<GetTitleDataResult>> GetTitleData(final GetTitleDataRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<GetTitleDataResult>>() {
+                public PlayFabResult<GetTitleDataResult> call() throws Exception {
+                    return privateGetTitleDataAsync(null, request);
+                }
+            });
+        }
+
+        /**
+         * Retrieves the key-value store of custom internal title settings
+         * @param request GetTitleDataRequest
+         * @return Running future that will complete with GetTitleDataResult
+         */
+        public PlayFabFuture<PlayFabResult<GetTitleDataResult>> GetTitleInternalData(final GetTitleDataRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<GetTitleDataResult>>() {
+                public PlayFabResult<GetTitleDataResult> call() throws Exception {
+                    return privateGetTitleInternalDataAsync(null, request);
+                }
+            });
+        }
+
+        /**
+         * Retrieves the title news feed, as configured in the developer portal
+         * @param request GetTitleNewsRequest
+         * @return Running future that will complete with GetTitleNewsResult
+         */
+        public PlayFabFuture<PlayFabResult<GetTitleNewsResult>> GetTitleNews(final GetTitleNewsRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<GetTitleNewsResult>>() {
+                public PlayFabResult<GetTitleNewsResult> call() throws Exception {
+                    return privateGetTitleNewsAsync(null, request);
+                }
+            });
+        }
+
+        /**
+         * Retrieves the relevant details for a specified user
+         * @param request GetUserAccountInfoRequest
+         * @return Running future that will complete with GetUserAccountInfoResult
+         */
+        public PlayFabFuture<PlayFabResult<GetUserAccountInfoResult>> GetUserAccountInfo(final GetUserAccountInfoRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<GetUserAccountInfoResult>>() {
+                public PlayFabResult<GetUserAccountInfoResult> call() throws Exception {
+                    return privateGetUserAccountInfoAsync(null, request);
+                }
+            });
+        }
+
+        /**
+         * Gets all bans for a user.
+         * @param request GetUserBansRequest
+         * @return Running future that will complete with GetUserBansResult
+         */
+        public PlayFabFuture<PlayFabResult<GetUserBansResult>> GetUserBans(final GetUserBansRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<GetUserBansResult>>() {
+                public PlayFabResult<GetUserBansResult> call() throws Exception {
+                    return privateGetUserBansAsync(null, request);
+                }
+            });
+        }
+
+        /**
+         * Retrieves the title-specific custom data for the user which is readable and writable by the client
+         * @param request GetUserDataRequest
+         * @return Running future that will complete with GetUserDataResult
+         */
+        public PlayFabFuture<PlayFabResult<GetUserDataResult>> GetUserData(final GetUserDataRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<GetUserDataResult>>() {
+                public PlayFabResult<GetUserDataResult> call() throws Exception {
+                    return privateGetUserDataAsync(null, request);
+                }
+            });
+        }
+
+        /**
+         * Retrieves the title-specific custom data for the user which cannot be accessed by the client
+         * @param request GetUserDataRequest
+         * @return Running future that will complete with GetUserDataResult
+         */
+        public PlayFabFuture<PlayFabResult<GetUserDataResult>> GetUserInternalData(final GetUserDataRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<GetUserDataResult>>() {
+                public PlayFabResult<GetUserDataResult> call() throws Exception {
+                    return privateGetUserInternalDataAsync(null, request);
+                }
+            });
+        }
+
+        /**
+         * Retrieves the specified user's current inventory of virtual goods
+         * @param request GetUserInventoryRequest
+         * @return Running future that will complete with GetUserInventoryResult
+         */
+        public PlayFabFuture<PlayFabResult<GetUserInventoryResult>> GetUserInventory(final GetUserInventoryRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<GetUserInventoryResult>>() {
+                public PlayFabResult<GetUserInventoryResult> call() throws Exception {
+                    return privateGetUserInventoryAsync(null, request);
+                }
+            });
+        }
+
+        /**
+         * Retrieves the publisher-specific custom data for the user which is readable and writable by the client
+         * @param request GetUserDataRequest
+         * @return Running future that will complete with GetUserDataResult
+         */
+        public PlayFabFuture<PlayFabResult<GetUserDataResult>> GetUserPublisherData(final GetUserDataRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<GetUserDataResult>>() {
+                public PlayFabResult<GetUserDataResult> call() throws Exception {
+                    return privateGetUserPublisherDataAsync(null, request);
+                }
+            });
+        }
+
+        /**
+         * Retrieves the publisher-specific custom data for the user which cannot be accessed by the client
+         * @param request GetUserDataRequest
+         * @return Running future that will complete with GetUserDataResult
+         */
+        public PlayFabFuture<PlayFabResult<GetUserDataResult>> GetUserPublisherInternalData(final GetUserDataRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<GetUserDataResult>>() {
+                public PlayFabResult<GetUserDataResult> call() throws Exception {
+                    return privateGetUserPublisherInternalDataAsync(null, request);
+                }
+            });
+        }
+
+        /**
+         * Retrieves the publisher-specific custom data for the user which can only be read by the client
+         * @param request GetUserDataRequest
+         * @return Running future that will complete with GetUserDataResult
+         */
+        public PlayFabFuture<PlayFabResult<GetUserDataResult>> GetUserPublisherReadOnlyData(final GetUserDataRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<GetUserDataResult>>() {
+                public PlayFabResult<GetUserDataResult> call() throws Exception {
+                    return privateGetUserPublisherReadOnlyDataAsync(null, request);
+                }
+            });
+        }
+
+        /**
+         * Retrieves the title-specific custom data for the user which can only be read by the client
+         * @param request GetUserDataRequest
+         * @return Running future that will complete with GetUserDataResult
+         */
+        public PlayFabFuture<PlayFabResult<GetUserDataResult>> GetUserReadOnlyData(final GetUserDataRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<GetUserDataResult>>() {
+                public PlayFabResult<GetUserDataResult> call() throws Exception {
+                    return privateGetUserReadOnlyDataAsync(null, request);
+                }
+            });
+        }
+
+        /**
+         * Grants the specified character type to the user. CharacterIds are not globally unique; characterId must be evaluated
+         * with the parent PlayFabId to guarantee uniqueness.
+         * @param request GrantCharacterToUserRequest
+         * @return Running future that will complete with GrantCharacterToUserResult
+         */
+        public PlayFabFuture<PlayFabResult<GrantCharacterToUserResult>> GrantCharacterToUser(final GrantCharacterToUserRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<GrantCharacterToUserResult>>() {
+                public PlayFabResult<GrantCharacterToUserResult> call() throws Exception {
+                    return privateGrantCharacterToUserAsync(null, request);
+                }
+            });
+        }
+
+        /**
+         * Adds the specified items to the specified character's inventory
+         * @param request GrantItemsToCharacterRequest
+         * @return Running future that will complete with GrantItemsToCharacterResult
+         */
+        public PlayFabFuture<PlayFabResult<GrantItemsToCharacterResult>> GrantItemsToCharacter(final GrantItemsToCharacterRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<GrantItemsToCharacterResult>>() {
+                public PlayFabResult<GrantItemsToCharacterResult> call() throws Exception {
+                    return privateGrantItemsToCharacterAsync(null, request);
+                }
+            });
+        }
+
+        /**
+         * Adds the specified items to the specified user's inventory
+         * @param request GrantItemsToUserRequest
+         * @return Running future that will complete with GrantItemsToUserResult
+         */
+        public PlayFabFuture<PlayFabResult<GrantItemsToUserResult>> GrantItemsToUser(final GrantItemsToUserRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<GrantItemsToUserResult>>() {
+                public PlayFabResult<GrantItemsToUserResult> call() throws Exception {
+                    return privateGrantItemsToUserAsync(null, request);
+                }
+            });
+        }
+
+        /**
+         * Adds the specified items to the specified user inventories
+         * @param request GrantItemsToUsersRequest
+         * @return Running future that will complete with GrantItemsToUsersResult
+         */
+        public PlayFabFuture<PlayFabResult<GrantItemsToUsersResult>> GrantItemsToUsers(final GrantItemsToUsersRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<GrantItemsToUsersResult>>() {
+                public PlayFabResult<GrantItemsToUsersResult> call() throws Exception {
+                    return privateGrantItemsToUsersAsync(null, request);
+                }
+            });
+        }
+
+        /**
+         * Links the PlayStation Network account associated with the provided access code to the user's PlayFab account
+         * @param request LinkPSNAccountRequest
+         * @return Running future that will complete with LinkPSNAccountResult
+         */
+        public PlayFabFuture<PlayFabResult<LinkPSNAccountResult>> LinkPSNAccount(final LinkPSNAccountRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<LinkPSNAccountResult>>() {
+                public PlayFabResult<LinkPSNAccountResult> call() throws Exception {
+                    return privateLinkPSNAccountAsync(null, request);
+                }
+            });
+        }
+
+        /**
+         * Links the custom server identifier, generated by the title, to the user's PlayFab account.
+         * @param request LinkServerCustomIdRequest
+         * @return Running future that will complete with LinkServerCustomIdResult
+         */
+        public PlayFabFuture<PlayFabResult<LinkServerCustomIdResult>> LinkServerCustomId(final LinkServerCustomIdRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<LinkServerCustomIdResult>>() {
+                public PlayFabResult<LinkServerCustomIdResult> call() throws Exception {
+                    return privateLinkServerCustomIdAsync(null, request);
+                }
+            });
+        }
+
+        /**
+         * Links the Xbox Live account associated with the provided access code to the user's PlayFab account
+         * @param request LinkXboxAccountRequest
+         * @return Running future that will complete with LinkXboxAccountResult
+         */
+        public PlayFabFuture<PlayFabResult<LinkXboxAccountResult>> LinkXboxAccount(final LinkXboxAccountRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<LinkXboxAccountResult>>() {
+                public PlayFabResult<LinkXboxAccountResult> call() throws Exception {
+                    return privateLinkXboxAccountAsync(null, request);
+                }
+            });
+        }
+
+        /**
+         * Securely login a game client from an external server backend using a custom identifier for that player. Server Custom ID
+         * and Client Custom ID are mutually exclusive and cannot be used to retrieve the same player account.
+         * @param request LoginWithServerCustomIdRequest
+         * @return Running future that will complete with ServerLoginResult
+         */
+        public PlayFabFuture<PlayFabResult<ServerLoginResult>> LoginWithServerCustomId(final LoginWithServerCustomIdRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<ServerLoginResult>>() {
+                public PlayFabResult<ServerLoginResult> call() throws Exception {
+                    return privateLoginWithServerCustomIdAsync(null, request);
+                }
+            });
+        }
+
+        /**
+         * Signs the user in using an Steam ID, returning a session identifier that can subsequently be used for API calls which
+         * require an authenticated user
+         * @param request LoginWithSteamIdRequest
+         * @return Running future that will complete with ServerLoginResult
+         */
+        public PlayFabFuture<PlayFabResult<ServerLoginResult>> LoginWithSteamId(final LoginWithSteamIdRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<ServerLoginResult>>() {
+                public PlayFabResult<ServerLoginResult> call() throws Exception {
+                    return privateLoginWithSteamIdAsync(null, request);
+                }
+            });
+        }
+
+        /**
+         * Signs the user in using a Xbox Live Token from an external server backend, returning a session identifier that can
+         * subsequently be used for API calls which require an authenticated user
+         * @param request LoginWithXboxRequest
+         * @return Running future that will complete with ServerLoginResult
+         */
+        public PlayFabFuture<PlayFabResult<ServerLoginResult>> LoginWithXbox(final LoginWithXboxRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<ServerLoginResult>>() {
+                public PlayFabResult<ServerLoginResult> call() throws Exception {
+                    return privateLoginWithXboxAsync(null, request);
+                }
+            });
+        }
+
+        /**
+         * Signs the user in using an Xbox ID and Sandbox ID, returning a session identifier that can subsequently be used for API
+         * calls which require an authenticated user
+         * @param request LoginWithXboxIdRequest
+         * @return Running future that will complete with ServerLoginResult
+         */
+        public PlayFabFuture<PlayFabResult<ServerLoginResult>> LoginWithXboxId(final LoginWithXboxIdRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<ServerLoginResult>>() {
+                public PlayFabResult<ServerLoginResult> call() throws Exception {
+                    return privateLoginWithXboxIdAsync(null, request);
+                }
+            });
+        }
+
+        /**
+         * Modifies the number of remaining uses of a player's inventory item
+         * @param request ModifyItemUsesRequest
+         * @return Running future that will complete with ModifyItemUsesResult
+         */
+        public PlayFabFuture<PlayFabResult<ModifyItemUsesResult>> ModifyItemUses(final ModifyItemUsesRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<ModifyItemUsesResult>>() {
+                public PlayFabResult<ModifyItemUsesResult> call() throws Exception {
+                    return privateModifyItemUsesAsync(null, request);
+                }
+            });
+        }
+
+        /**
+         * Moves an item from a character's inventory into another of the users's character's inventory.
+         * @param request MoveItemToCharacterFromCharacterRequest
+         * @return Running future that will complete with MoveItemToCharacterFromCharacterResult
+         */
+        public PlayFabFuture<PlayFabResult<MoveItemToCharacterFromCharacterResult>> MoveItemToCharacterFromCharacter(final MoveItemToCharacterFromCharacterRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<MoveItemToCharacterFromCharacterResult>>() {
+                public PlayFabResult<MoveItemToCharacterFromCharacterResult> call() throws Exception {
+                    return privateMoveItemToCharacterFromCharacterAsync(null, request);
+                }
+            });
+        }
+
+        /**
+         * Moves an item from a user's inventory into their character's inventory.
+         * @param request MoveItemToCharacterFromUserRequest
+         * @return Running future that will complete with MoveItemToCharacterFromUserResult
+         */
+        public PlayFabFuture<PlayFabResult<MoveItemToCharacterFromUserResult>> MoveItemToCharacterFromUser(final MoveItemToCharacterFromUserRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<MoveItemToCharacterFromUserResult>>() {
+                public PlayFabResult<MoveItemToCharacterFromUserResult> call() throws Exception {
+                    return privateMoveItemToCharacterFromUserAsync(null, request);
+                }
+            });
+        }
+
+        /**
+         * Moves an item from a character's inventory into the owning user's inventory.
+         * @param request MoveItemToUserFromCharacterRequest
+         * @return Running future that will complete with MoveItemToUserFromCharacterResult
+         */
+        public PlayFabFuture<PlayFabResult<MoveItemToUserFromCharacterResult>> MoveItemToUserFromCharacter(final MoveItemToUserFromCharacterRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<MoveItemToUserFromCharacterResult>>() {
+                public PlayFabResult<MoveItemToUserFromCharacterResult> call() throws Exception {
+                    return privateMoveItemToUserFromCharacterAsync(null, request);
+                }
+            });
+        }
+
+        /**
+         * Informs the PlayFab match-making service that the user specified has left the Game Server Instance
+         * @param request NotifyMatchmakerPlayerLeftRequest
+         * @return Running future that will complete with NotifyMatchmakerPlayerLeftResult
+         */
+        public PlayFabFuture<PlayFabResult<NotifyMatchmakerPlayerLeftResult>> NotifyMatchmakerPlayerLeft(final NotifyMatchmakerPlayerLeftRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<NotifyMatchmakerPlayerLeftResult>>() {
+                public PlayFabResult<NotifyMatchmakerPlayerLeftResult> call() throws Exception {
+                    return privateNotifyMatchmakerPlayerLeftAsync(null, request);
+                }
+            });
+        }
+
+        /**
+         * Adds the virtual goods associated with the coupon to the user's inventory. Coupons can be generated via the
+         * Economy-&gt;Catalogs tab in the PlayFab Game Manager.
+         * @param request RedeemCouponRequest
+         * @return Running future that will complete with RedeemCouponResult
+         */
+        public PlayFabFuture<PlayFabResult<RedeemCouponResult>> RedeemCoupon(final RedeemCouponRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<RedeemCouponResult>>() {
+                public PlayFabResult<RedeemCouponResult> call() throws Exception {
+                    return privateRedeemCouponAsync(null, request);
+                }
+            });
+        }
+
+        /**
+         * Validates a Game Server session ticket and returns details about the user
+         * @param request RedeemMatchmakerTicketRequest
+         * @return Running future that will complete with RedeemMatchmakerTicketResult
+         */
+        public PlayFabFuture<PlayFabResult<RedeemMatchmakerTicketResult>> RedeemMatchmakerTicket(final RedeemMatchmakerTicketRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<RedeemMatchmakerTicketResult>>() {
+                public PlayFabResult<RedeemMatchmakerTicketResult> call() throws Exception {
+                    return privateRedeemMatchmakerTicketAsync(null, request);
+                }
+            });
+        }
+
+        /**
+         * Set the state of the indicated Game Server Instance. Also update the heartbeat for the instance.
+         * @param request RefreshGameServerInstanceHeartbeatRequest
+         * @return Running future that will complete with RefreshGameServerInstanceHeartbeatResult
+         */
+        public PlayFabFuture<PlayFabResult<RefreshGameServerInstanceHeartbeatResult>> RefreshGameServerInstanceHeartbeat(final RefreshGameServerInstanceHeartbeatRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<RefreshGameServerInstanceHeartbeatResult>>() {
+                public PlayFabResult<RefreshGameServerInstanceHeartbeatResult> call() throws Exception {
+                    return privateRefreshGameServerInstanceHeartbeatAsync(null, request);
+                }
+            });
+        }
+
+        /**
+         * Inform the matchmaker that a new Game Server Instance is added.
+         * @param request RegisterGameRequest
+         * @return Running future that will complete with RegisterGameResponse
+         */
+        public PlayFabFuture<PlayFabResult<RegisterGameResponse>> RegisterGame(final RegisterGameRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<RegisterGameResponse>>() {
+                public PlayFabResult<RegisterGameResponse> call() throws Exception {
+                    return privateRegisterGameAsync(null, request);
+                }
+            });
+        }
+
+        /**
+         * Removes the specified friend from the the user's friend list
+         * @param request RemoveFriendRequest
+         * @return Running future that will complete with EmptyResponse
+         */
+        public PlayFabFuture<PlayFabResult<EmptyResponse>> RemoveFriend(final RemoveFriendRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<EmptyResponse>>() {
+                public PlayFabResult<EmptyResponse> call() throws Exception {
+                    return privateRemoveFriendAsync(null, request);
+                }
+            });
+        }
+
+        /**
+         * Removes the specified generic service identifier from the player's PlayFab account.
+         * @param request RemoveGenericIDRequest
+         * @return Running future that will complete with EmptyResult
+         */
+        public PlayFabFuture<PlayFabResult<EmptyResult>> RemoveGenericID(final RemoveGenericIDRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<EmptyResult>>() {
+                public PlayFabResult<EmptyResult> call() throws Exception {
+                    return privateRemoveGenericIDAsync(null, request);
+                }
+            });
+        }
+
+        /**
+         * Remove a given tag from a player profile. The tag's namespace is automatically generated based on the source of the tag.
+         * @param request RemovePlayerTagRequest
+         * @return Running future that will complete with RemovePlayerTagResult
+         */
+        public PlayFabFuture<PlayFabResult<RemovePlayerTagResult>> RemovePlayerTag(final RemovePlayerTagRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<RemovePlayerTagResult>>() {
+                public PlayFabResult<RemovePlayerTagResult> call() throws Exception {
+                    return privateRemovePlayerTagAsync(null, request);
+                }
+            });
+        }
+
+        /**
+         * Removes users from the set of those able to update the shared data and the set of users in the group. Only users in the
+         * group can remove members. If as a result of the call, zero users remain with access, the group and its associated data
+         * will be deleted. Shared Groups are designed for sharing data between a very small number of players, please see our
+         * guide: https://docs.microsoft.com/gaming/playfab/features/social/groups/using-shared-group-data
+         * @param request RemoveSharedGroupMembersRequest
+         * @return Running future that will complete with RemoveSharedGroupMembersResult
+         */
+        public PlayFabFuture<PlayFabResult<RemoveSharedGroupMembersResult>> RemoveSharedGroupMembers(final RemoveSharedGroupMembersRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<RemoveSharedGroupMembersResult>>() {
+                public PlayFabResult<RemoveSharedGroupMembersResult> call() throws Exception {
+                    return privateRemoveSharedGroupMembersAsync(null, request);
+                }
+            });
+        }
+
+        /**
+         * Submit a report about a player (due to bad bahavior, etc.) on behalf of another player, so that customer service
+         * representatives for the title can take action concerning potentially toxic players.
+         * @param request ReportPlayerServerRequest
+         * @return Running future that will complete with ReportPlayerServerResult
+         */
+        public PlayFabFuture<PlayFabResult<ReportPlayerServerResult>> ReportPlayer(final ReportPlayerServerRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<ReportPlayerServerResult>>() {
+                public PlayFabResult<ReportPlayerServerResult> call() throws Exception {
+                    return privateReportPlayerAsync(null, request);
+                }
+            });
+        }
+
+        /**
+         * Revoke all active bans for a user.
+         * @param request RevokeAllBansForUserRequest
+         * @return Running future that will complete with RevokeAllBansForUserResult
+         */
+        public PlayFabFuture<PlayFabResult<RevokeAllBansForUserResult>> RevokeAllBansForUser(final RevokeAllBansForUserRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<RevokeAllBansForUserResult>>() {
+                public PlayFabResult<RevokeAllBansForUserResult> call() throws Exception {
+                    return privateRevokeAllBansForUserAsync(null, request);
+                }
+            });
+        }
+
+        /**
+         * Revoke all active bans specified with BanId.
+         * @param request RevokeBansRequest
+         * @return Running future that will complete with RevokeBansResult
+         */
+        public PlayFabFuture<PlayFabResult<RevokeBansResult>> RevokeBans(final RevokeBansRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<RevokeBansResult>>() {
+                public PlayFabResult<RevokeBansResult> call() throws Exception {
+                    return privateRevokeBansAsync(null, request);
+                }
+            });
+        }
+
+        /**
+         * Revokes access to an item in a user's inventory
+         * @param request RevokeInventoryItemRequest
+         * @return Running future that will complete with RevokeInventoryResult
+         */
+        public PlayFabFuture<PlayFabResult<RevokeInventoryResult>> RevokeInventoryItem(final RevokeInventoryItemRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<RevokeInventoryResult>>() {
+                public PlayFabResult<RevokeInventoryResult> call() throws Exception {
+                    return privateRevokeInventoryItemAsync(null, request);
+                }
+            });
+        }
+
+        /**
+         * Revokes access for up to 25 items across multiple users and characters.
+         * @param request RevokeInventoryItemsRequest
+         * @return Running future that will complete with RevokeInventoryItemsResult
+         */
+        public PlayFabFuture<PlayFabResult<RevokeInventoryItemsResult>> RevokeInventoryItems(final RevokeInventoryItemsRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<RevokeInventoryItemsResult>>() {
+                public PlayFabResult<RevokeInventoryItemsResult> call() throws Exception {
+                    return privateRevokeInventoryItemsAsync(null, request);
+                }
+            });
+        }
+
+        /**
+         * Saves push notification template for title
+         * @param request SavePushNotificationTemplateRequest
+         * @return Running future that will complete with SavePushNotificationTemplateResult
+         */
+        public PlayFabFuture<PlayFabResult<SavePushNotificationTemplateResult>> SavePushNotificationTemplate(final SavePushNotificationTemplateRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<SavePushNotificationTemplateResult>>() {
+                public PlayFabResult<SavePushNotificationTemplateResult> call() throws Exception {
+                    return privateSavePushNotificationTemplateAsync(null, request);
+                }
+            });
+        }
+
+        /**
+         * Forces an email to be sent to the registered contact email address for the user's account based on an account recovery
+         * email template
+         * @param request SendCustomAccountRecoveryEmailRequest
+         * @return Running future that will complete with SendCustomAccountRecoveryEmailResult
+         */
+        public PlayFabFuture<PlayFabResult<SendCustomAccountRecoveryEmailResult>> SendCustomAccountRecoveryEmail(final SendCustomAccountRecoveryEmailRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<SendCustomAccountRecoveryEmailResult>>() {
+                public PlayFabResult<SendCustomAccountRecoveryEmailResult> call() throws Exception {
+                    return privateSendCustomAccountRecoveryEmailAsync(null, request);
+                }
+            });
+        }
+
+        /**
+         * Sends an email based on an email template to a player's contact email
+         * @param request SendEmailFromTemplateRequest
+         * @return Running future that will complete with SendEmailFromTemplateResult
+         */
+        public PlayFabFuture<PlayFabResult<SendEmailFromTemplateResult>> SendEmailFromTemplate(final SendEmailFromTemplateRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<SendEmailFromTemplateResult>>() {
+                public PlayFabResult<SendEmailFromTemplateResult> call() throws Exception {
+                    return privateSendEmailFromTemplateAsync(null, request);
+                }
+            });
+        }
+
+        /**
+         * Sends an iOS/Android Push Notification to a specific user, if that user's device has been configured for Push
+         * Notifications in PlayFab. If a user has linked both Android and iOS devices, both will be notified.
+         * @param request SendPushNotificationRequest
+         * @return Running future that will complete with SendPushNotificationResult
+         */
+        public PlayFabFuture<PlayFabResult<SendPushNotificationResult>> SendPushNotification(final SendPushNotificationRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<SendPushNotificationResult>>() {
+                public PlayFabResult<SendPushNotificationResult> call() throws Exception {
+                    return privateSendPushNotificationAsync(null, request);
+                }
+            });
+        }
+
+        /**
+         * Sends an iOS/Android Push Notification template to a specific user, if that user's device has been configured for Push
+         * Notifications in PlayFab. If a user has linked both Android and iOS devices, both will be notified.
+         * @param request SendPushNotificationFromTemplateRequest
+         * @return Running future that will complete with SendPushNotificationResult
+         */
+        public PlayFabFuture<PlayFabResult<SendPushNotificationResult>> SendPushNotificationFromTemplate(final SendPushNotificationFromTemplateRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<SendPushNotificationResult>>() {
+                public PlayFabResult<SendPushNotificationResult> call() throws Exception {
+                    return privateSendPushNotificationFromTemplateAsync(null, request);
+                }
+            });
+        }
+
+        /**
+         * Updates the tag list for a specified user in the friend list of another user
+         * @param request SetFriendTagsRequest
+         * @return Running future that will complete with EmptyResponse
+         */
+        public PlayFabFuture<PlayFabResult<EmptyResponse>> SetFriendTags(final SetFriendTagsRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<EmptyResponse>>() {
+                public PlayFabResult<EmptyResponse> call() throws Exception {
+                    return privateSetFriendTagsAsync(null, request);
+                }
+            });
+        }
+
+        /**
+         * Sets the custom data of the indicated Game Server Instance
+         * @param request SetGameServerInstanceDataRequest
+         * @return Running future that will complete with SetGameServerInstanceDataResult
+         */
+        public PlayFabFuture<PlayFabResult<SetGameServerInstanceDataResult>> SetGameServerInstanceData(final SetGameServerInstanceDataRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<SetGameServerInstanceDataResult>>() {
+                public PlayFabResult<SetGameServerInstanceDataResult> call() throws Exception {
+                    return privateSetGameServerInstanceDataAsync(null, request);
+                }
+            });
+        }
+
+        /**
+         * Set the state of the indicated Game Server Instance.
+         * @param request SetGameServerInstanceStateRequest
+         * @return Running future that will complete with SetGameServerInstanceStateResult
+         */
+        public PlayFabFuture<PlayFabResult<SetGameServerInstanceStateResult>> SetGameServerInstanceState(final SetGameServerInstanceStateRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<SetGameServerInstanceStateResult>>() {
+                public PlayFabResult<SetGameServerInstanceStateResult> call() throws Exception {
+                    return privateSetGameServerInstanceStateAsync(null, request);
+                }
+            });
+        }
+
+        /**
+         * Set custom tags for the specified Game Server Instance
+         * @param request SetGameServerInstanceTagsRequest
+         * @return Running future that will complete with SetGameServerInstanceTagsResult
+         */
+        public PlayFabFuture<PlayFabResult<SetGameServerInstanceTagsResult>> SetGameServerInstanceTags(final SetGameServerInstanceTagsRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<SetGameServerInstanceTagsResult>>() {
+                public PlayFabResult<SetGameServerInstanceTagsResult> call() throws Exception {
+                    return privateSetGameServerInstanceTagsAsync(null, request);
+                }
+            });
+        }
+
+        /**
+         * Sets the player's secret if it is not already set. Player secrets are used to sign API requests. To reset a player's
+         * secret use the Admin or Server API method SetPlayerSecret.
+         * @param request SetPlayerSecretRequest
+         * @return Running future that will complete with SetPlayerSecretResult
+         */
+        public PlayFabFuture<PlayFabResult<SetPlayerSecretResult>> SetPlayerSecret(final SetPlayerSecretRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<SetPlayerSecretResult>>() {
+                public PlayFabResult<SetPlayerSecretResult> call() throws Exception {
+                    return privateSetPlayerSecretAsync(null, request);
+                }
+            });
+        }
+
+        /**
+         * Updates the key-value store of custom publisher settings
+         * @param request SetPublisherDataRequest
+         * @return Running future that will complete with SetPublisherDataResult
+         */
+        public PlayFabFuture<PlayFabResult<SetPublisherDataResult>> SetPublisherData(final SetPublisherDataRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<SetPublisherDataResult>>() {
+                public PlayFabResult<SetPublisherDataResult> call() throws Exception {
+                    return privateSetPublisherDataAsync(null, request);
+                }
+            });
+        }
+
+        /**
+         * Updates the key-value store of custom title settings
+         * @param request SetTitleDataRequest
+         * @return Running future that will complete with SetTitleDataResult
+         */
+        public PlayFabFuture<PlayFabResult<SetTitleDataResult>> SetTitleData(final SetTitleDataRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<SetTitleDataResult>>() {
+                public PlayFabResult<SetTitleDataResult> call() throws Exception {
+                    return privateSetTitleDataAsync(null, request);
+                }
+            });
+        }
+
+        /**
+         * Updates the key-value store of custom title settings
+         * @param request SetTitleDataRequest
+         * @return Running future that will complete with SetTitleDataResult
+         */
+        public PlayFabFuture<PlayFabResult<SetTitleDataResult>> SetTitleInternalData(final SetTitleDataRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<SetTitleDataResult>>() {
+                public PlayFabResult<SetTitleDataResult> call() throws Exception {
+                    return privateSetTitleInternalDataAsync(null, request);
+                }
+            });
+        }
+
+        /**
+         * Decrements the character's balance of the specified virtual currency by the stated amount. It is possible to make a VC
+         * balance negative with this API.
+         * @param request SubtractCharacterVirtualCurrencyRequest
+         * @return Running future that will complete with ModifyCharacterVirtualCurrencyResult
+         */
+        public PlayFabFuture<PlayFabResult<ModifyCharacterVirtualCurrencyResult>> SubtractCharacterVirtualCurrency(final SubtractCharacterVirtualCurrencyRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<ModifyCharacterVirtualCurrencyResult>>() {
+                public PlayFabResult<ModifyCharacterVirtualCurrencyResult> call() throws Exception {
+                    return privateSubtractCharacterVirtualCurrencyAsync(null, request);
+                }
+            });
+        }
+
+        /**
+         * Decrements the user's balance of the specified virtual currency by the stated amount. It is possible to make a VC
+         * balance negative with this API.
+         * @param request SubtractUserVirtualCurrencyRequest
+         * @return Running future that will complete with ModifyUserVirtualCurrencyResult
+         */
+        public PlayFabFuture<PlayFabResult<ModifyUserVirtualCurrencyResult>> SubtractUserVirtualCurrency(final SubtractUserVirtualCurrencyRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<ModifyUserVirtualCurrencyResult>>() {
+                public PlayFabResult<ModifyUserVirtualCurrencyResult> call() throws Exception {
+                    return privateSubtractUserVirtualCurrencyAsync(null, request);
+                }
+            });
+        }
+
+        /**
+         * Unlinks the related PSN account from the user's PlayFab account
+         * @param request UnlinkPSNAccountRequest
+         * @return Running future that will complete with UnlinkPSNAccountResult
+         */
+        public PlayFabFuture<PlayFabResult<UnlinkPSNAccountResult>> UnlinkPSNAccount(final UnlinkPSNAccountRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<UnlinkPSNAccountResult>>() {
+                public PlayFabResult<UnlinkPSNAccountResult> call() throws Exception {
+                    return privateUnlinkPSNAccountAsync(null, request);
+                }
+            });
+        }
+
+        /**
+         * Unlinks the custom server identifier from the user's PlayFab account.
+         * @param request UnlinkServerCustomIdRequest
+         * @return Running future that will complete with UnlinkServerCustomIdResult
+         */
+        public PlayFabFuture<PlayFabResult<UnlinkServerCustomIdResult>> UnlinkServerCustomId(final UnlinkServerCustomIdRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<UnlinkServerCustomIdResult>>() {
+                public PlayFabResult<UnlinkServerCustomIdResult> call() throws Exception {
+                    return privateUnlinkServerCustomIdAsync(null, request);
+                }
+            });
+        }
+
+        /**
+         * Unlinks the related Xbox Live account from the user's PlayFab account
+         * @param request UnlinkXboxAccountRequest
+         * @return Running future that will complete with UnlinkXboxAccountResult
+         */
+        public PlayFabFuture<PlayFabResult<UnlinkXboxAccountResult>> UnlinkXboxAccount(final UnlinkXboxAccountRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<UnlinkXboxAccountResult>>() {
+                public PlayFabResult<UnlinkXboxAccountResult> call() throws Exception {
+                    return privateUnlinkXboxAccountAsync(null, request);
+                }
+            });
+        }
+
+        /**
+         * Opens a specific container (ContainerItemInstanceId), with a specific key (KeyItemInstanceId, when required), and
+         * returns the contents of the opened container. If the container (and key when relevant) are consumable (RemainingUses &gt;
+         * 0), their RemainingUses will be decremented, consistent with the operation of ConsumeItem.
+         * @param request UnlockContainerInstanceRequest
+         * @return Running future that will complete with UnlockContainerItemResult
+         */
+        public PlayFabFuture<PlayFabResult<UnlockContainerItemResult>> UnlockContainerInstance(final UnlockContainerInstanceRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<UnlockContainerItemResult>>() {
+                public PlayFabResult<UnlockContainerItemResult> call() throws Exception {
+                    return privateUnlockContainerInstanceAsync(null, request);
+                }
+            });
+        }
+
+        /**
+         * Searches Player or Character inventory for any ItemInstance matching the given CatalogItemId, if necessary unlocks it
+         * using any appropriate key, and returns the contents of the opened container. If the container (and key when relevant)
+         * are consumable (RemainingUses &gt; 0), their RemainingUses will be decremented, consistent with the operation of
+         * ConsumeItem.
+         * @param request UnlockContainerItemRequest
+         * @return Running future that will complete with UnlockContainerItemResult
+         */
+        public PlayFabFuture<PlayFabResult<UnlockContainerItemResult>> UnlockContainerItem(final UnlockContainerItemRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<UnlockContainerItemResult>>() {
+                public PlayFabResult<UnlockContainerItemResult> call() throws Exception {
+                    return privateUnlockContainerItemAsync(null, request);
+                }
+            });
+        }
+
+        /**
+         * Update the avatar URL of the specified player
+         * @param request UpdateAvatarUrlRequest
+         * @return Running future that will complete with EmptyResponse
+         */
+        public PlayFabFuture<PlayFabResult<EmptyResponse>> UpdateAvatarUrl(final UpdateAvatarUrlRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<EmptyResponse>>() {
+                public PlayFabResult<EmptyResponse> call() throws Exception {
+                    return privateUpdateAvatarUrlAsync(null, request);
+                }
+            });
+        }
+
+        /**
+         * Updates information of a list of existing bans specified with Ban Ids.
+         * @param request UpdateBansRequest
+         * @return Running future that will complete with UpdateBansResult
+         */
+        public PlayFabFuture<PlayFabResult<UpdateBansResult>> UpdateBans(final UpdateBansRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<UpdateBansResult>>() {
+                public PlayFabResult<UpdateBansResult> call() throws Exception {
+                    return privateUpdateBansAsync(null, request);
+                }
+            });
+        }
+
+        /**
+         * Updates the title-specific custom data for the user's character which is readable and writable by the client
+         * @param request UpdateCharacterDataRequest
+         * @return Running future that will complete with UpdateCharacterDataResult
+         */
+        public PlayFabFuture<PlayFabResult<UpdateCharacterDataResult>> UpdateCharacterData(final UpdateCharacterDataRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<UpdateCharacterDataResult>>() {
+                public PlayFabResult<UpdateCharacterDataResult> call() throws Exception {
+                    return privateUpdateCharacterDataAsync(null, request);
+                }
+            });
+        }
+
+        /**
+         * Updates the title-specific custom data for the user's character which cannot be accessed by the client
+         * @param request UpdateCharacterDataRequest
+         * @return Running future that will complete with UpdateCharacterDataResult
+         */
+        public PlayFabFuture<PlayFabResult<UpdateCharacterDataResult>> UpdateCharacterInternalData(final UpdateCharacterDataRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<UpdateCharacterDataResult>>() {
+                public PlayFabResult<UpdateCharacterDataResult> call() throws Exception {
+                    return privateUpdateCharacterInternalDataAsync(null, request);
+                }
+            });
+        }
+
+        /**
+         * Updates the title-specific custom data for the user's character which can only be read by the client
+         * @param request UpdateCharacterDataRequest
+         * @return Running future that will complete with UpdateCharacterDataResult
+         */
+        public PlayFabFuture<PlayFabResult<UpdateCharacterDataResult>> UpdateCharacterReadOnlyData(final UpdateCharacterDataRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<UpdateCharacterDataResult>>() {
+                public PlayFabResult<UpdateCharacterDataResult> call() throws Exception {
+                    return privateUpdateCharacterReadOnlyDataAsync(null, request);
+                }
+            });
+        }
+
+        /**
+         * Updates the values of the specified title-specific statistics for the specific character
+         * @param request UpdateCharacterStatisticsRequest
+         * @return Running future that will complete with UpdateCharacterStatisticsResult
+         */
+        public PlayFabFuture<PlayFabResult<UpdateCharacterStatisticsResult>> UpdateCharacterStatistics(final UpdateCharacterStatisticsRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<UpdateCharacterStatisticsResult>>() {
+                public PlayFabResult<UpdateCharacterStatisticsResult> call() throws Exception {
+                    return privateUpdateCharacterStatisticsAsync(null, request);
+                }
+            });
+        }
+
+        /**
+         * Updates the values of the specified title-specific statistics for the user
+         * @param request UpdatePlayerStatisticsRequest
+         * @return Running future that will complete with UpdatePlayerStatisticsResult
+         */
+        public PlayFabFuture<PlayFabResult<UpdatePlayerStatisticsResult>> UpdatePlayerStatistics(final UpdatePlayerStatisticsRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<UpdatePlayerStatisticsResult>>() {
+                public PlayFabResult<UpdatePlayerStatisticsResult> call() throws Exception {
+                    return privateUpdatePlayerStatisticsAsync(null, request);
+                }
+            });
+        }
+
+        /**
+         * Adds, updates, and removes data keys for a shared group object. If the permission is set to Public, all fields updated
+         * or added in this call will be readable by users not in the group. By default, data permissions are set to Private.
+         * Regardless of the permission setting, only members of the group (and the server) can update the data. Shared Groups are
+         * designed for sharing data between a very small number of players, please see our guide:
+         * https://docs.microsoft.com/gaming/playfab/features/social/groups/using-shared-group-data
+         * @param request UpdateSharedGroupDataRequest
+         * @return Running future that will complete with UpdateSharedGroupDataResult
+         */
+        public PlayFabFuture<PlayFabResult<UpdateSharedGroupDataResult>> UpdateSharedGroupData(final UpdateSharedGroupDataRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<UpdateSharedGroupDataResult>>() {
+                public PlayFabResult<UpdateSharedGroupDataResult> call() throws Exception {
+                    return privateUpdateSharedGroupDataAsync(null, request);
+                }
+            });
+        }
+
+        /**
+         * Updates the title-specific custom data for the user which is readable and writable by the client
+         * @param request UpdateUserDataRequest
+         * @return Running future that will complete with UpdateUserDataResult
+         */
+        public PlayFabFuture<PlayFabResult<UpdateUserDataResult>> UpdateUserData(final UpdateUserDataRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<UpdateUserDataResult>>() {
+                public PlayFabResult<UpdateUserDataResult> call() throws Exception {
+                    return privateUpdateUserDataAsync(null, request);
+                }
+            });
+        }
+
+        /**
+         * Updates the title-specific custom data for the user which cannot be accessed by the client
+         * @param request UpdateUserInternalDataRequest
+         * @return Running future that will complete with UpdateUserDataResult
+         */
+        public PlayFabFuture<PlayFabResult<UpdateUserDataResult>> UpdateUserInternalData(final UpdateUserInternalDataRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<UpdateUserDataResult>>() {
+                public PlayFabResult<UpdateUserDataResult> call() throws Exception {
+                    return privateUpdateUserInternalDataAsync(null, request);
+                }
+            });
+        }
+
+        /**
+         * Updates the key-value pair data tagged to the specified item, which is read-only from the client.
+         * @param request UpdateUserInventoryItemDataRequest
+         * @return Running future that will complete with EmptyResponse
+         */
+        public PlayFabFuture<PlayFabResult<EmptyResponse>> UpdateUserInventoryItemCustomData(final UpdateUserInventoryItemDataRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<EmptyResponse>>() {
+                public PlayFabResult<EmptyResponse> call() throws Exception {
+                    return privateUpdateUserInventoryItemCustomDataAsync(null, request);
+                }
+            });
+        }
+
+        /**
+         * Updates the publisher-specific custom data for the user which is readable and writable by the client
+         * @param request UpdateUserDataRequest
+         * @return Running future that will complete with UpdateUserDataResult
+         */
+        public PlayFabFuture<PlayFabResult<UpdateUserDataResult>> UpdateUserPublisherData(final UpdateUserDataRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<UpdateUserDataResult>>() {
+                public PlayFabResult<UpdateUserDataResult> call() throws Exception {
+                    return privateUpdateUserPublisherDataAsync(null, request);
+                }
+            });
+        }
+
+        /**
+         * Updates the publisher-specific custom data for the user which cannot be accessed by the client
+         * @param request UpdateUserInternalDataRequest
+         * @return Running future that will complete with UpdateUserDataResult
+         */
+        public PlayFabFuture<PlayFabResult<UpdateUserDataResult>> UpdateUserPublisherInternalData(final UpdateUserInternalDataRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<UpdateUserDataResult>>() {
+                public PlayFabResult<UpdateUserDataResult> call() throws Exception {
+                    return privateUpdateUserPublisherInternalDataAsync(null, request);
+                }
+            });
+        }
+
+        /**
+         * Updates the publisher-specific custom data for the user which can only be read by the client
+         * @param request UpdateUserDataRequest
+         * @return Running future that will complete with UpdateUserDataResult
+         */
+        public PlayFabFuture<PlayFabResult<UpdateUserDataResult>> UpdateUserPublisherReadOnlyData(final UpdateUserDataRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<UpdateUserDataResult>>() {
+                public PlayFabResult<UpdateUserDataResult> call() throws Exception {
+                    return privateUpdateUserPublisherReadOnlyDataAsync(null, request);
+                }
+            });
+        }
+
+        /**
+         * Updates the title-specific custom data for the user which can only be read by the client
+         * @param request UpdateUserDataRequest
+         * @return Running future that will complete with UpdateUserDataResult
+         */
+        public PlayFabFuture<PlayFabResult<UpdateUserDataResult>> UpdateUserReadOnlyData(final UpdateUserDataRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<UpdateUserDataResult>>() {
+                public PlayFabResult<UpdateUserDataResult> call() throws Exception {
+                    return privateUpdateUserReadOnlyDataAsync(null, request);
+                }
+            });
+        }
+
+        /**
+         * Writes a character-based event into PlayStream.
+         * @param request WriteServerCharacterEventRequest
+         * @return Running future that will complete with WriteEventResponse
+         */
+        public PlayFabFuture<PlayFabResult<WriteEventResponse>> WriteCharacterEvent(final WriteServerCharacterEventRequest request) {
+            PlayFabFuture<PlayFabResult<WriteEventResponse>> routed = routeEvent(PlayFabClassicEventRouter.EventKind.Character, request.EventName, request.PlayFabId, request.CharacterId, request.Body, request.CustomTags, request.Timestamp);
+            if (routed != null)
+                return routed;
+            return PlayFabFuture.start(new Callable<PlayFabResult<WriteEventResponse>>() {
+                public PlayFabResult<WriteEventResponse> call() throws Exception {
+                    return privateWriteCharacterEventAsync(null, request);
+                }
+            });
+        }
+
+        /**
+         * Writes a player-based event into PlayStream.
+         * @param request WriteServerPlayerEventRequest
+         * @return Running future that will complete with WriteEventResponse
+         */
+        public PlayFabFuture<PlayFabResult<WriteEventResponse>> WritePlayerEvent(final WriteServerPlayerEventRequest request) {
+            PlayFabFuture<PlayFabResult<WriteEventResponse>> routed = routeEvent(PlayFabClassicEventRouter.EventKind.Player, request.EventName, request.PlayFabId, null, request.Body, request.CustomTags, request.Timestamp);
+            if (routed != null)
+                return routed;
+            return PlayFabFuture.start(new Callable<PlayFabResult<WriteEventResponse>>() {
+                public PlayFabResult<WriteEventResponse> call() throws Exception {
+                    return privateWritePlayerEventAsync(null, request);
+                }
+            });
+        }
+
+        /**
+         * Writes a title-based event into PlayStream.
+         * @param request WriteTitleEventRequest
+         * @return Running future that will complete with WriteEventResponse
+         */
+        public PlayFabFuture<PlayFabResult<WriteEventResponse>> WriteTitleEvent(final WriteTitleEventRequest request) {
+            PlayFabFuture<PlayFabResult<WriteEventResponse>> routed = routeEvent(PlayFabClassicEventRouter.EventKind.Title, request.EventName, null, null, request.Body, request.CustomTags, request.Timestamp);
+            if (routed != null)
+                return routed;
+            return PlayFabFuture.start(new Callable<PlayFabResult<WriteEventResponse>>() {
+                public PlayFabResult<WriteEventResponse> call() throws Exception {
+                    return privateWriteTitleEventAsync(null, request);
+                }
+            });
+        }
+    }
 }
@@ -0,0 +1,3873 @@
+package com.playfab;
+
+import com.playfab.internal.*;
+import com.playfab.PlayFabServerModels.*;
+import com.playfab.PlayFabErrors.*;
+import com.playfab.PlayFabSettings;
+import java.util.concurrent.*;
+import java.util.*;
+
+    /**
+     * The calls of PlayFabServerAPI, made with a PlayFabApiContext of this object's own instead of PlayFabSettings. Login
+     * and GetEntityToken calls keep the credentials they return in that context
+     */
+public class PlayFabServerInstanceAPI extends PlayFabInstanceAPI {
+    private final Async async = new Async();
+
+    public PlayFabServerInstanceAPI(PlayFabApiContext context) {
+        super(context);
+    }
+
+    /**
+     * Increments the character's balance of the specified virtual currency by the stated amount
+     * @param request AddCharacterVirtualCurrencyRequest
+     * @return ModifyCharacterVirtualCurrencyResult
+     */
+    public PlayFabResult<ModifyCharacterVirtualCurrencyResult> AddCharacterVirtualCurrency(final AddCharacterVirtualCurrencyRequest request) {
+        try {
+            return PlayFabServerAPI.privateAddCharacterVirtualCurrencyAsync(this, request);
+        } catch(Exception e) {
+            PlayFabResult<ModifyCharacterVirtualCurrencyResult> exceptionResult = new PlayFabResult<ModifyCharacterVirtualCurrencyResult>();
+            exceptionResult.Error = PlayFabHTTP.GeneratePfError(-1, PlayFabErrorCode.Unknown, e.getMessage(), null, null);
+            return exceptionResult;
+        }
+    }
+
+    /**
+     * Adds the Friend user to the friendlist of the user with PlayFabId. At least one of
+     * FriendPlayFabId,FriendUsername,FriendEmail, or FriendTitleDisplayName should be initialized.
+     * @param request AddFriendRequest
+     * @return EmptyResponse
+     */
+    public PlayFabResult<EmptyResponse> AddFriend(final AddFriendRequest request) {
+        try {
+            return PlayFabServerAPI.privateAddFriendAsync(this, request);
+        } catch(Exception e) {
+            PlayFabResult<EmptyResponse> exceptionResult = new PlayFabResult<EmptyResponse>();
+            exceptionResult.Error = PlayFabHTTP.GeneratePfError(-1, PlayFabErrorCode.Unknown, e.getMessage(), null, null);
+            return exceptionResult;
+        }
+    }
+
+    /**
+     * Adds the specified generic service identifier to the player's PlayFab account. This is designed to allow for a PlayFab
+     * ID lookup of any arbitrary service identifier a title wants to add. This identifier should never be used as
+     * authentication credentials, as the intent is that it is easily accessible by other players.
+     * @param request AddGenericIDRequest
+     * @return EmptyResult
+     */
+    public PlayFabResult<EmptyResult> AddGenericID(final AddGenericIDRequest request) {
+        try {
+            return PlayFabServerAPI.privateAddGenericIDAsync(this, request);
+        } catch(Exception e) {
+            PlayFabResult<EmptyResult> exceptionResult = new PlayFabResult<EmptyResult>();
+            exceptionResult.Error = PlayFabHTTP.GeneratePfError(-1, PlayFabErrorCode.Unknown, e.getMessage(), null, null);
+            return exceptionResult;
+        }
+    }
+
+    /**
+     * Adds a given tag to a player profile. The tag's namespace is automatically generated based on the source of the tag.
+     * @param request AddPlayerTagRequest
+     * @return AddPlayerTagResult
+     */
+    public PlayFabResult<AddPlayerTagResult> AddPlayerTag(final AddPlayerTagRequest request) {
+        try {
+            return PlayFabServerAPI.privateAddPlayerTagAsync(this, request);
+        } catch(Exception e) {
+            PlayFabResult<AddPlayerTagResult> exceptionResult = new PlayFabResult<AddPlayerTagResult>();
+            exceptionResult.Error = PlayFabHTTP.GeneratePfError(-1, PlayFabErrorCode.Unknown, e.getMessage(), null, null);
+            return exceptionResult;
+        }
+    }
+
+    /**
+     * Adds users to the set of those able to update both the shared data, as well as the set of users in the group. Only users
+     * in the group (and the server) can add new members. Shared Groups are designed for sharing data between a very small
+     * number of players, please see our guide:
+     * https://docs.microsoft.com/gaming/playfab/features/social/groups/using-shared-group-data
+     * @param request AddSharedGroupMembersRequest
+     * @return AddSharedGroupMembersResult
+     */
+    public PlayFabResult<AddSharedGroupMembersResult> AddSharedGroupMembers(final AddSharedGroupMembersRequest request) {
+        try {
+            return PlayFabServerAPI.privateAddSharedGroupMembersAsync(this, request);
+        } catch(Exception e) {
+            PlayFabResult<AddSharedGroupMembersResult> exceptionResult = new PlayFabResult<AddSharedGroupMembersResult>();
+            exceptionResult.Error = PlayFabHTTP.GeneratePfError(-1, PlayFabErrorCode.Unknown, e.getMessage(), null, null);
+            return exceptionResult;
+        }
+    }
+
+    /**
+     * Increments the user's balance of the specified virtual currency by the stated amount
+     * @param request AddUserVirtualCurrencyRequest
+     * @return ModifyUserVirtualCurrencyResult
+     */
+    public PlayFabResult<ModifyUserVirtualCurrencyResult> AddUserVirtualCurrency(final AddUserVirtualCurrencyRequest request) {
+        try {
+            return PlayFabServerAPI.privateAddUserVirtualCurrencyAsync(this, request);
+        } catch(Exception e) {
+            PlayFabResult<ModifyUserVirtualCurrencyResult> exceptionResult = new PlayFabResult<ModifyUserVirtualCurrencyResult>();
+            exceptionResult.Error = PlayFabHTTP.GeneratePfError(-1, PlayFabErrorCode.Unknown, e.getMessage(), null, null);
+            return exceptionResult;
+        }
+    }
+
+    /**
+     * Validated a client's session ticket, and if successful, returns details for that user
+     * @param request AuthenticateSessionTicketRequest
+     * @return AuthenticateSessionTicketResult
+     */
+    public PlayFabResult<AuthenticateSessionTicketResult> AuthenticateSessionTicket(final AuthenticateSessionTicketRequest request) {
+        try {
+            return PlayFabServerAPI.privateAuthenticateSessionTicketAsync(this, request);
+        } catch(Exception e) {
+            PlayFabResult<AuthenticateSessionTicketResult> exceptionResult = new PlayFabResult<AuthenticateSessionTicketResult>();
+            exceptionResult.Error = PlayFabHTTP.GeneratePfError(-1, PlayFabErrorCode.Unknown, e.getMessage(), null, null);
+            return exceptionResult;
+        }
+    }
+
+    /**
+     * Awards the specified users the specified Steam achievements
+     * @param request AwardSteamAchievementRequest
+     * @return AwardSteamAchievementResult
+     */
+    public PlayFabResult<AwardSteamAchievementResult> AwardSteamAchievement(final AwardSteamAchievementRequest request) {
+        try {
+            return PlayFabServerAPI.privateAwardSteamAchievementAsync(this, request);
+        } catch(Exception e) {
+            PlayFabResult<AwardSteamAchievementResult> exceptionResult = new PlayFabResult<AwardSteamAchievementResult>();
+            exceptionResult.Error = PlayFabHTTP.GeneratePfError(-1, PlayFabErrorCode.Unknown, e.getMessage(), null, null);
+            return exceptionResult;
+        }
+    }
+
+    /**
+     * Bans users by PlayFab ID with optional IP address, or MAC address for the provided game.
+     * @param request BanUsersRequest
+     * @return BanUsersResult
+     */
+    public PlayFabResult<BanUsersResult> BanUsers(final BanUsersRequest request) {
+        try {
+            return PlayFabServerAPI.privateBanUsersAsync(this, request);
+        } catch(Exception e) {
+            PlayFabResult<BanUsersResult> exceptionResult = new PlayFabResult<BanUsersResult>();
+            exceptionResult.Error = PlayFabHTTP.GeneratePfError(-1, PlayFabErrorCode.Unknown, e.getMessage(), null, null);
+            return exceptionResult;
+        }
+    }
+
+    /**
+     * Consume uses of a consumable item. When all uses are consumed, it will be removed from the player's inventory.
+     * @param request ConsumeItemRequest
+     * @return ConsumeItemResult
+     */
+    public PlayFabResult<ConsumeItemResult> ConsumeItem(final ConsumeItemRequest request) {
+        try {
+            return PlayFabServerAPI.privateConsumeItemAsync(this, request);
+        } catch(Exception e) {
+            PlayFabResult<ConsumeItemResult> exceptionResult = new PlayFabResult<ConsumeItemResult>();
+            exceptionResult.Error = PlayFabHTTP.GeneratePfError(-1, PlayFabErrorCode.Unknown, e.getMessage(), null, null);
+            return exceptionResult;
+        }
+    }
+
+    /**
+     * Requests the creation of a shared group object, containing key/value pairs which may be updated by all members of the
+     * group. When created by a server, the group will initially have no members. Shared Groups are designed for sharing data
+     * between a very small number of players, please see our guide:
+     * https://docs.microsoft.com/gaming/playfab/features/social/groups/using-shared-group-data
+     * @param request CreateSharedGroupRequest
+     * @return CreateSharedGroupResult
+     */
+    public PlayFabResult<CreateSharedGroupResult> CreateSharedGroup(final CreateSharedGroupRequest request) {
+        try {
+            return PlayFabServerAPI.privateCreateSharedGroupAsync(this, request);
+        } catch(Exception e) {
+            PlayFabResult<CreateSharedGroupResult> exceptionResult = new PlayFabResult<CreateSharedGroupResult>();
+            exceptionResult.Error = PlayFabHTTP.GeneratePfError(-1, PlayFabErrorCode.Unknown, e.getMessage(), null, null);
+            return exceptionResult;
+        }
+    }
+
+    /**
+     * Deletes the specific character ID from the specified user.
+     * @param request DeleteCharacterFromUserRequest
+     * @return DeleteCharacterFromUserResult
+     */
+    public PlayFabResult<DeleteCharacterFromUserResult> DeleteCharacterFromUser(final DeleteCharacterFromUserRequest request) {
+        try {
+            return PlayFabServerAPI.privateDeleteCharacterFromUserAsync(this, request);
+        } catch(Exception e) {
+            PlayFabResult<DeleteCharacterFromUserResult> exceptionResult = new PlayFabResult<DeleteCharacterFromUserResult>();
+            exceptionResult.Error = PlayFabHTTP.GeneratePfError(-1, PlayFabErrorCode.Unknown, e.getMessage(), null, null);
+            return exceptionResult;
+        }
+    }
+
+    /**
+     * Removes a user's player account from a title and deletes all associated data
+     * @param request DeletePlayerRequest
+     * @return DeletePlayerResult
+     */
+    public PlayFabResult<DeletePlayerResult> DeletePlayer(final DeletePlayerRequest request) {
+        try {
+            return PlayFabServerAPI.privateDeletePlayerAsync(this, request);
+        } catch(Exception e) {
+            PlayFabResult<DeletePlayerResult> exceptionResult = new PlayFabResult<DeletePlayerResult>();
+            exceptionResult.Error = PlayFabHTTP.GeneratePfError(-1, PlayFabErrorCode.Unknown, e.getMessage(), null, null);
+            return exceptionResult;
+        }
+    }
+
+    /**
+     * Deletes push notification template for title
+     * @param request DeletePushNotificationTemplateRequest
+     * @return DeletePushNotificationTemplateResult
+     */
+    public PlayFabResult<DeletePushNotificationTemplateResult> DeletePushNotificationTemplate(final DeletePushNotificationTemplateRequest request) {
+        try {
+            return PlayFabServerAPI.privateDeletePushNotificationTemplateAsync(this, request);
+        } catch(Exception e) {
+            PlayFabResult<DeletePushNotificationTemplateResult> exceptionResult = new PlayFabResult<DeletePushNotificationTemplateResult>();
+            exceptionResult.Error = PlayFabHTTP.GeneratePfError(-1, PlayFabErrorCode.Unknown, e.getMessage(), null, null);
+            return exceptionResult;
+        }
+    }
+
+    /**
+     * Deletes a shared group, freeing up the shared group ID to be reused for a new group. Shared Groups are designed for
+     * sharing data between a very small number of players, please see our guide:
+     * https://docs.microsoft.com/gaming/playfab/features/social/groups/using-shared-group-data
+     * @param request DeleteSharedGroupRequest
+     * @return EmptyResponse
+     */
+    public PlayFabResult<EmptyResponse> DeleteSharedGroup(final DeleteSharedGroupRequest request) {
+        try {
+            return PlayFabServerAPI.privateDeleteSharedGroupAsync(this, request);
+        } catch(Exception e) {
+            PlayFabResult<EmptyResponse> exceptionResult = new PlayFabResult<EmptyResponse>();
+            exceptionResult.Error = PlayFabHTTP.GeneratePfError(-1, PlayFabErrorCode.Unknown, e.getMessage(), null, null);
+            return exceptionResult;
+        }
+    }
+
+    /**
+     * Inform the matchmaker that a Game Server Instance is removed.
+     * @param request DeregisterGameRequest
+     * @return DeregisterGameResponse
+     */
+    public PlayFabResult<DeregisterGameResponse> DeregisterGame(final DeregisterGameRequest request) {
+        try {
+            return PlayFabServerAPI.privateDeregisterGameAsync(this, request);
+        } catch(Exception e) {
+            PlayFabResult<DeregisterGameResponse> exceptionResult = new PlayFabResult<DeregisterGameResponse>();
+            exceptionResult.Error = PlayFabHTTP.GeneratePfError(-1, PlayFabErrorCode.Unknown, e.getMessage(), null, null);
+            return exceptionResult;
+        }
+    }
+
+    /**
+     * Returns the result of an evaluation of a Random Result Table - the ItemId from the game Catalog which would have been
+     * added to the player inventory, if the Random Result Table were added via a Bundle or a call to UnlockContainer.
+     * @param request EvaluateRandomResultTableRequest
+     * @return EvaluateRandomResultTableResult
+     */
+    public PlayFabResult<EvaluateRandomResultTableResult> EvaluateRandomResultTable(final EvaluateRandomResultTableRequest request) {
+        try {
+            return PlayFabServerAPI.privateEvaluateRandomResultTableAsync(this, request);
+        } catch(Exception e) {
+            PlayFabResult<EvaluateRandomResultTableResult> exceptionResult = new PlayFabResult<EvaluateRandomResultTableResult>();
+            exceptionResult.Error = PlayFabHTTP.GeneratePfError(-1, PlayFabErrorCode.Unknown, e.getMessage(), null, null);
+            return exceptionResult;
+        }
+    }
+
+    /**
+     * Executes a CloudScript function, with the 'currentPlayerId' variable set to the specified PlayFabId parameter value.
+     * @param request ExecuteCloudScriptServerRequest
+     * @return ExecuteCloudScriptResult
+     */
+    public PlayFabResult<ExecuteCloudScriptResult> ExecuteCloudScript(final ExecuteCloudScriptServerRequest request) {
+        try {
+            return PlayFabServerAPI.privateExecuteCloudScriptAsync(this, request);
+        } catch(Exception e) {
+            PlayFabResult<ExecuteCloudScriptResult> exceptionResult = new PlayFabResult<ExecuteCloudScriptResult>();
+            exceptionResult.Error = PlayFabHTTP.GeneratePfError(-1, PlayFabErrorCode.Unknown, e.getMessage(), null, null);
+            return exceptionResult;
+        }
+    }
+
+    /**
+     * Retrieves an array of player segment definitions. Results from this can be used in subsequent API calls such as
+     * GetPlayersInSegment which requires a Segment ID. While segment names can change the ID for that segment will not change.
+     * @param request GetAllSegmentsRequest
+     * @return GetAllSegmentsResult
+     */
+    public PlayFabResult<GetAllSegmentsResult> GetAllSegments(final GetAllSegmentsRequest request) {
+        try {
+            return PlayFabServerAPI.privateGetAllSegmentsAsync(this, request);
+        } catch(Exception e) {
+            PlayFabResult<GetAllSegmentsResult> exceptionResult = new PlayFabResult<GetAllSegmentsResult>();
+            exceptionResult.Error = PlayFabHTTP.GeneratePfError(-1, PlayFabErrorCode.Unknown, e.getMessage(), null, null);
+            return exceptionResult;
+        }
+    }
+
+    /**
+     * Lists all of the characters that belong to a specific user. CharacterIds are not globally unique; characterId must be
+     * evaluated with the parent PlayFabId to guarantee uniqueness.
+     * @param request ListUsersCharactersRequest
+     * @return ListUsersCharactersResult
+     */
+    public PlayFabResult<ListUsersCharactersResult> GetAllUsersCharacters(final ListUsersCharactersRequest request) {
+        try {
+            return PlayFabServerAPI.privateGetAllUsersCharactersAsync(this, request);
+        } catch(Exception e) {
+            PlayFabResult<ListUsersCharactersResult> exceptionResult = new PlayFabResult<ListUsersCharactersResult>();
+            exceptionResult.Error = PlayFabHTTP.GeneratePfError(-1, PlayFabErrorCode.Unknown, e.getMessage(), null, null);
+            return exceptionResult;
+        }
+    }
+
+    /**
+     * Retrieves the specified version of the title's catalog of virtual goods, including all defined properties
+     * @param request GetCatalogItemsRequest
+     * @return GetCatalogItemsResult
+     */
+    public PlayFabResult<GetCatalogItemsResult> GetCatalogItems(final GetCatalogItemsRequest request) {
+        try {
+            return PlayFabServerAPI.privateGetCatalogItemsAsync(this, request);
+        } catch(Exception e) {
+            PlayFabResult<GetCatalogItemsResult> exceptionResult = new PlayFabResult<GetCatalogItemsResult>();
+            exceptionResult.Error = PlayFabHTTP.GeneratePfError(-1, PlayFabErrorCode.Unknown, e.getMessage(), null, null);
+            return exceptionResult;
+        }
+    }
+
+    /**
+     * Retrieves the title-specific custom data for the user which is readable and writable by the client
+     * @param request GetCharacterDataRequest
+     * @return GetCharacterDataResult
+     */
+    public PlayFabResult<GetCharacterDataResult> GetCharacterData(final GetCharacterDataRequest request) {
+        try {
+            return PlayFabServerAPI.privateGetCharacterDataAsync(this, request);
+        } catch(Exception e) {
+            PlayFabResult<GetCharacterDataResult> exceptionResult = new PlayFabResult<GetCharacterDataResult>();
+            exceptionResult.Error = PlayFabHTTP.GeneratePfError(-1, PlayFabErrorCode.Unknown, e.getMessage(), null, null);
+            return exceptionResult;
+        }
+    }
+
+    /**
+     * Retrieves the title-specific custom data for the user's character which cannot be accessed by the client
+     * @param request GetCharacterDataRequest
+     * @return GetCharacterDataResult
+     */
+    public PlayFabResult<GetCharacterDataResult> GetCharacterInternalData(final GetCharacterDataRequest request) {
+        try {
+            return PlayFabServerAPI.privateGetCharacterInternalDataAsync(this, request);
+        } catch(Exception e) {
+            PlayFabResult<GetCharacterDataResult> exceptionResult = new PlayFabResult<GetCharacterDataResult>();
+            exceptionResult.Error = PlayFabHTTP.GeneratePfError(-1, PlayFabErrorCode.Unknown, e.getMessage(), null, null);
+            return exceptionResult;
+        }
+    }
+
+    /**
+     * Retrieves the specified character's current inventory of virtual goods
+     * @param request GetCharacterInventoryRequest
+     * @return GetCharacterInventoryResult
+     */
+    public PlayFabResult<GetCharacterInventoryResult> GetCharacterInventory(final GetCharacterInventoryRequest request) {
+        try {
+            return PlayFabServerAPI.privateGetCharacterInventoryAsync(this, request);
+        } catch(Exception e) {
+            PlayFabResult<GetCharacterInventoryResult> exceptionResult = new PlayFabResult<GetCharacterInventoryResult>();
+            exceptionResult.Error = PlayFabHTTP.GeneratePfError(-1, PlayFabErrorCode.Unknown, e.getMessage(), null, null);
+            return exceptionResult;
+        }
+    }
+
+    /**
+     * Retrieves a list of ranked characters for the given statistic, starting from the indicated point in the leaderboard
+     * @param request GetCharacterLeaderboardRequest
+     * @return GetCharacterLeaderboardResult
+     */
+    public PlayFabResult<GetCharacterLeaderboardResult> GetCharacterLeaderboard(final GetCharacterLeaderboardRequest request) {
+        try {
+            return PlayFabServerAPI.privateGetCharacterLeaderboardAsync(this, request);
+        } catch(Exception e) {
+            PlayFabResult<GetCharacterLeaderboardResult> exceptionResult = new PlayFabResult<GetCharacterLeaderboardResult>();
+            exceptionResult.Error = PlayFabHTTP.GeneratePfError(-1, PlayFabErrorCode.Unknown, e.getMessage(), null, null);
+            return exceptionResult;
+        }
+    }
+
+    /**
+     * Retrieves the title-specific custom data for the user's character which can only be read by the client
+     * @param request GetCharacterDataRequest
+     * @return GetCharacterDataResult
+     */
+    public PlayFabResult<GetCharacterDataResult> GetCharacterReadOnlyData(final GetCharacterDataRequest request) {
+        try {
+            return PlayFabServerAPI.privateGetCharacterReadOnlyDataAsync(this, request);
+        } catch(Exception e) {
+            PlayFabResult<GetCharacterDataResult> exceptionResult = new PlayFabResult<GetCharacterDataResult>();
+            exceptionResult.Error = PlayFabHTTP.GeneratePfError(-1, PlayFabErrorCode.Unknown, e.getMessage(), null, null);
+            return exceptionResult;
+        }
+    }
+
+    /**
+     * Retrieves the details of all title-specific statistics for the specific character
+     * @param request GetCharacterStatisticsRequest
+     * @return GetCharacterStatisticsResult
+     */
+    public PlayFabResult<GetCharacterStatisticsResult> GetCharacterStatistics(final GetCharacterStatisticsRequest request) {
+        try {
+            return PlayFabServerAPI.privateGetCharacterStatisticsAsync(this, request);
+        } catch(Exception e) {
+            PlayFabResult<GetCharacterStatisticsResult> exceptionResult = new PlayFabResult<GetCharacterStatisticsResult>();
+            exceptionResult.Error = PlayFabHTTP.GeneratePfError(-1, PlayFabErrorCode.Unknown, e.getMessage(), null, null);
+            return exceptionResult;
+        }
+    }
+
+    /**
+     * This API retrieves a pre-signed URL for accessing a content file for the title. A subsequent HTTP GET to the returned
+     * URL will attempt to download the content. A HEAD query to the returned URL will attempt to retrieve the metadata of the
+     * content. Note that a successful result does not guarantee the existence of this content - if it has not been uploaded,
+     * the query to retrieve the data will fail. See this post for more information:
+     * https://community.playfab.com/hc/community/posts/205469488-How-to-upload-files-to-PlayFab-s-Content-Service. Also,
+     * please be aware that the Content service is specifically PlayFab's CDN offering, for which standard CDN rates apply.
+     * @param request GetContentDownloadUrlRequest
+     * @return GetContentDownloadUrlResult
+     */
+    public PlayFabResult<GetContentDownloadUrlResult> GetContentDownloadUrl(final GetContentDownloadUrlRequest request) {
+        try {
+            return PlayFabServerAPI.privateGetContentDownloadUrlAsync(this, request);
+        } catch(Exception e) {
+            PlayFabResult<GetContentDownloadUrlResult> exceptionResult = new PlayFabResult<GetContentDownloadUrlResult>();
+            exceptionResult.Error = PlayFabHTTP.GeneratePfError(-1, PlayFabErrorCode.Unknown, e.getMessage(), null, null);
+            return exceptionResult;
+        }
+    }
+
+    /**
+     * Retrieves a list of ranked friends of the given player for the given statistic, starting from the indicated point in the
+     * leaderboard
+     * @param request GetFriendLeaderboardRequest
+     * @return GetLeaderboardResult
+     */
+    public PlayFabResult<GetLeaderboardResult> GetFriendLeaderboard(final GetFriendLeaderboardRequest request) {
+        try {
+            return PlayFabServerAPI.privateGetFriendLeaderboardAsync(this, request);
+        } catch(Exception e) {
+            PlayFabResult<GetLeaderboardResult> exceptionResult = new PlayFabResult<GetLeaderboardResult>();
+            exceptionResult.Error = PlayFabHTTP.GeneratePfError(-1, PlayFabErrorCode.Unknown, e.getMessage(), null, null);
+            return exceptionResult;
+        }
+    }
+
+    /**
+     * Retrieves the current friends for the user with PlayFabId, constrained to users who have PlayFab accounts. Friends from
+     * linked accounts (Facebook, Steam) are also included. You may optionally exclude some linked services' friends.
+     * @param request GetFriendsListRequest
+     * @return GetFriendsListResult
+     */
+    public PlayFabResult<GetFriendsListResult> GetFriendsList(final GetFriendsListRequest request) {
+        try {
+            return PlayFabServerAPI.privateGetFriendsListAsync(this, request);
+        } catch(Exception e) {
+            PlayFabResult<GetFriendsListResult> exceptionResult = new PlayFabResult<GetFriendsListResult>();
+            exceptionResult.Error = PlayFabHTTP.GeneratePfError(-1, PlayFabErrorCode.Unknown, e.getMessage(), null, null);
+            return exceptionResult;
+        }
+    }
+
+    /**
+     * Retrieves a list of ranked users for the given statistic, starting from the indicated point in the leaderboard
+     * @param request GetLeaderboardRequest
+     * @return GetLeaderboardResult
+     */
+    public PlayFabResult<GetLeaderboardResult> GetLeaderboard(final GetLeaderboardRequest request) {
+        try {
+            return PlayFabServerAPI.privateGetLeaderboardAsync(this, request);
+        } catch(Exception e) {
+            PlayFabResult<GetLeaderboardResult> exceptionResult = new PlayFabResult<GetLeaderboardResult>();
+            exceptionResult.Error = PlayFabHTTP.GeneratePfError(-1, PlayFabErrorCode.Unknown, e.getMessage(), null, null);
+            return exceptionResult;
+        }
+    }
+
+    /**
+     * Retrieves a list of ranked characters for the given statistic, centered on the requested user
+     * @param request GetLeaderboardAroundCharacterRequest
+     * @return GetLeaderboardAroundCharacterResult
+     */
+    public PlayFabResult<GetLeaderboardAroundCharacterResult> GetLeaderboardAroundCharacter(final GetLeaderboardAroundCharacterRequest request) {
+        try {
+            return PlayFabServerAPI.privateGetLeaderboardAroundCharacterAsync(this, request);
+        } catch(Exception e) {
+            PlayFabResult<GetLeaderboardAroundCharacterResult> exceptionResult = new PlayFabResult<GetLeaderboardAroundCharacterResult>();
+            exceptionResult.Error = PlayFabHTTP.GeneratePfError(-1, PlayFabErrorCode.Unknown, e.getMessage(), null, null);
+            return exceptionResult;
+        }
+    }
+
+    /**
+     * Retrieves a list of ranked users for the given statistic, centered on the currently signed-in user
+     * @param request GetLeaderboardAroundUserRequest
+     * @return GetLeaderboardAroundUserResult
+     */
+    public PlayFabResult<GetLeaderboardAroundUserResult> GetLeaderboardAroundUser(final GetLeaderboardAroundUserRequest request) {
+        try {
+            return PlayFabServerAPI.privateGetLeaderboardAroundUserAsync(this, request);
+        } catch(Exception e) {
+            PlayFabResult<GetLeaderboardAroundUserResult> exceptionResult = new PlayFabResult<GetLeaderboardAroundUserResult>();
+            exceptionResult.Error = PlayFabHTTP.GeneratePfError(-1, PlayFabErrorCode.Unknown, e.getMessage(), null, null);
+            return exceptionResult;
+        }
+    }
+
+    /**
+     * Retrieves a list of all of the user's characters for the given statistic.
+     * @param request GetLeaderboardForUsersCharactersRequest
+     * @return GetLeaderboardForUsersCharactersResult
+     */
+    public PlayFabResult<GetLeaderboardForUsersCharactersResult> GetLeaderboardForUserCharacters(final GetLeaderboardForUsersCharactersRequest request) {
+        try {
+            return PlayFabServerAPI.privateGetLeaderboardForUserCharactersAsync(this, request);
+        } catch(Exception e) {
+            PlayFabResult<GetLeaderboardForUsersCharactersResult> exceptionResult = new PlayFabResult<GetLeaderboardForUsersCharactersResult>();
+            exceptionResult.Error = PlayFabHTTP.GeneratePfError(-1, PlayFabErrorCode.Unknown, e.getMessage(), null, null);
+            return exceptionResult;
+        }
+    }
+
+    /**
+     * Returns whatever info is requested in the response for the user. Note that PII (like email address, facebook id) may be
+     * returned. All parameters default to false.
+     * @param request GetPlayerCombinedInfoRequest
+     * @return GetPlayerCombinedInfoResult
+     */
+    public PlayFabResult<GetPlayerCombinedInfoResult> GetPlayerCombinedInfo(final GetPlayerCombinedInfoRequest request) {
+        try {
+            return PlayFabServerAPI.privateGetPlayerCombinedInfoAsync(this, request);
+        } catch(Exception e) {
+            PlayFabResult<GetPlayerCombinedInfoResult> exceptionResult = new PlayFabResult<GetPlayerCombinedInfoResult>();
+            exceptionResult.Error = PlayFabHTTP.GeneratePfError(-1, PlayFabErrorCode.Unknown, e.getMessage(), null, null);
+            return exceptionResult;
+        }
+    }
+
+    /**
+     * Retrieves the player's profile
+     * @param request GetPlayerProfileRequest
+     * @return GetPlayerProfileResult
+     */
+    public PlayFabResult<GetPlayerProfileResult> GetPlayerProfile(final GetPlayerProfileRequest request) {
+        try {
+            return PlayFabServerAPI.privateGetPlayerProfileAsync(this, request);
+        } catch(Exception e) {
+            PlayFabResult<GetPlayerProfileResult> exceptionResult = new PlayFabResult<GetPlayerProfileResult>();
+            exceptionResult.Error = PlayFabHTTP.GeneratePfError(-1, PlayFabErrorCode.Unknown, e.getMessage(), null, null);
+            return exceptionResult;
+        }
+    }
+
+    /**
+     * List all segments that a player currently belongs to at this moment in time.
+     * @param request GetPlayersSegmentsRequest
+     * @return GetPlayerSegmentsResult
+     */
+    public PlayFabResult<GetPlayerSegmentsResult> GetPlayerSegments(final GetPlayersSegmentsRequest request) {
+        try {
+            return PlayFabServerAPI.privateGetPlayerSegmentsAsync(this, request);
+        } catch(Exception e) {
+            PlayFabResult<GetPlayerSegmentsResult> exceptionResult = new PlayFabResult<GetPlayerSegmentsResult>();
+            exceptionResult.Error = PlayFabHTTP.GeneratePfError(-1, PlayFabErrorCode.Unknown, e.getMessage(), null, null);
+            return exceptionResult;
+        }
+    }
+
+    /**
+     * Allows for paging through all players in a given segment. This API creates a snapshot of all player profiles that match
+     * the segment definition at the time of its creation and lives through the Total Seconds to Live, refreshing its life span
+     * on each subsequent use of the Continuation Token. Profiles that change during the course of paging will not be reflected
+     * in the results. AB Test segments are currently not supported by this operation. NOTE: This API is limited to being
+     * called 30 times in one minute. You will be returned an error if you exceed this threshold.
+     * @param request GetPlayersInSegmentRequest
+     * @return GetPlayersInSegmentResult
+     */
+    public PlayFabResult<GetPlayersInSegmentResult> GetPlayersInSegment(final GetPlayersInSegmentRequest request) {
+        try {
+            return PlayFabServerAPI.privateGetPlayersInSegmentAsync(this, request);
+        } catch(Exception e) {
+            PlayFabResult<GetPlayersInSegmentResult> exceptionResult = new PlayFabResult<GetPlayersInSegmentResult>();
+            exceptionResult.Error = PlayFabHTTP.GeneratePfError(-1, PlayFabErrorCode.Unknown, e.getMessage(), null, null);
+            return exceptionResult;
+        }
+    }
+
+    /**
+     * Retrieves the current version and values for the indicated statistics, for the local player.
+     * @param request GetPlayerStatisticsRequest
+     * @return GetPlayerStatisticsResult
+     */
+    public PlayFabResult<GetPlayerStatisticsResult> GetPlayerStatistics(final GetPlayerStatisticsRequest request) {
+        try {
+            return PlayFabServerAPI.privateGetPlayerStatisticsAsync(this, request);
+        } catch(Exception e) {
+            PlayFabResult<GetPlayerStatisticsResult> exceptionResult = new PlayFabResult<GetPlayerStatisticsResult>();
+            exceptionResult.Error = PlayFabHTTP.GeneratePfError(-1, PlayFabErrorCode.Unknown, e.getMessage(), null, null);
+            return exceptionResult;
+        }
+    }
+
+    /**
+     * Retrieves the information on the available versions of the specified statistic.
+     * @param request GetPlayerStatisticVersionsRequest
+     * @return GetPlayerStatisticVersionsResult
+     */
+    public PlayFabResult<GetPlayerStatisticVersionsResult> GetPlayerStatisticVersions(final GetPlayerStatisticVersionsRequest request) {
+        try {
+            return PlayFabServerAPI.privateGetPlayerStatisticVersionsAsync(this, request);
+        } catch(Exception e) {
+            PlayFabResult<GetPlayerStatisticVersionsResult> exceptionResult = new PlayFabResult<GetPlayerStatisticVersionsResult>();
+            exceptionResult.Error = PlayFabHTTP.GeneratePfError(-1, PlayFabErrorCode.Unknown, e.getMessage(), null, null);
+            return exceptionResult;
+        }
+    }
+
+    /**
+     * Get all tags with a given Namespace (optional) from a player profile.
+     * @param request GetPlayerTagsRequest
+     * @return GetPlayerTagsResult
+     */
+    public PlayFabResult<GetPlayerTagsResult> GetPlayerTags(final GetPlayerTagsRequest request) {
+        try {
+            return PlayFabServerAPI.privateGetPlayerTagsAsync(this, request);
+        } catch(Exception e) {
+            PlayFabResult<GetPlayerTagsResult> exceptionResult = new PlayFabResult<GetPlayerTagsResult>();
+            exceptionResult.Error = PlayFabHTTP.GeneratePfError(-1, PlayFabErrorCode.Unknown, e.getMessage(), null, null);
+            return exceptionResult;
+        }
+    }
+
+    /**
+     * Retrieves the unique PlayFab identifiers for the given set of Facebook identifiers.
+     * @param request GetPlayFabIDsFromFacebookIDsRequest
+     * @return GetPlayFabIDsFromFacebookIDsResult
+     */
+    public PlayFabResult<GetPlayFabIDsFromFacebookIDsResult> GetPlayFabIDsFromFacebookIDs(final GetPlayFabIDsFromFacebookIDsRequest request) {
+        try {
+            return PlayFabServerAPI.privateGetPlayFabIDsFromFacebookIDsAsync(this, request);
+        } catch(Exception e) {
+            PlayFabResult<GetPlayFabIDsFromFacebookIDsResult> exceptionResult = new PlayFabResult<GetPlayFabIDsFromFacebookIDsResult>();
+            exceptionResult.Error = PlayFabHTTP.GeneratePfError(-1, PlayFabErrorCode.Unknown, e.getMessage(), null, null);
+            return exceptionResult;
+        }
+    }
+
+    /**
+     * Retrieves the unique PlayFab identifiers for the given set of Facebook Instant Games identifiers.
+     * @param request GetPlayFabIDsFromFacebookInstantGamesIdsRequest
+     * @return GetPlayFabIDsFromFacebookInstantGamesIdsResult
+     */
+    public PlayFabResult<GetPlayFabIDsFromFacebookInstantGamesIdsResult> GetPlayFabIDsFromFacebookInstantGamesIds(final GetPlayFabIDsFromFacebookInstantGamesIdsRequest request) {
+        try {
+            return PlayFabServerAPI.privateGetPlayFabIDsFromFacebookInstantGamesIdsAsync(this, request);
+        } catch(Exception e) {
+            PlayFabResult<GetPlayFabIDsFromFacebookInstantGamesIdsResult> exceptionResult = new PlayFabResult<GetPlayFabIDsFromFacebookInstantGamesIdsResult>();
+            exceptionResult.Error = PlayFabHTTP.GeneratePfError(-1, PlayFabErrorCode.Unknown, e.getMessage(), null, null);
+            return exceptionResult;
+        }
+    }
+
+    /**
+     * Retrieves the unique PlayFab identifiers for the given set of generic service identifiers. A generic identifier is the
+     * service name plus the service-specific ID for the player, as specified by the title when the generic identifier was
+     * added to the player account.
+     * @param request GetPlayFabIDsFromGenericIDsRequest
+     * @return GetPlayFabIDsFromGenericIDsResult
+     */
+    public PlayFabResult<GetPlayFabIDsFromGenericIDsResult> GetPlayFabIDsFromGenericIDs(final GetPlayFabIDsFromGenericIDsRequest request) {
+        try {
+            return PlayFabServerAPI.privateGetPlayFabIDsFromGenericIDsAsync(this, request);
+        } catch(Exception e) {
+            PlayFabResult<GetPlayFabIDsFromGenericIDsResult> exceptionResult = new PlayFabResult<GetPlayFabIDsFromGenericIDsResult>();
+            exceptionResult.Error = PlayFabHTTP.GeneratePfError(-1, PlayFabErrorCode.Unknown, e.getMessage(), null, null);
+            return exceptionResult;
+        }
+    }
+
+    /**
+     * Retrieves the unique PlayFab identifiers for the given set of Nintendo Switch Device identifiers.
+     * @param request GetPlayFabIDsFromNintendoSwitchDeviceIdsRequest
+     * @return GetPlayFabIDsFromNintendoSwitchDeviceIdsResult
+     */
+    public PlayFabResult<GetPlayFabIDsFromNintendoSwitchDeviceIdsResult> GetPlayFabIDsFromNintendoSwitchDeviceIds(final GetPlayFabIDsFromNintendoSwitchDeviceIdsRequest request) {
+        try {
+            return PlayFabServerAPI.privateGetPlayFabIDsFromNintendoSwitchDeviceIdsAsync(this, request);
+        } catch(Exception e) {
+            PlayFabResult<GetPlayFabIDsFromNintendoSwitchDeviceIdsResult> exceptionResult = new PlayFabResult<GetPlayFabIDsFromNintendoSwitchDeviceIdsResult>();
+            exceptionResult.Error = PlayFabHTTP.GeneratePfError(-1, PlayFabErrorCode.Unknown, e.getMessage(), null, null);
+            return exceptionResult;
+        }
+    }
+
+    /**
+     * Retrieves the unique PlayFab identifiers for the given set of PlayStation Network identifiers.
+     * @param request GetPlayFabIDsFromPSNAccountIDsRequest
+     * @return GetPlayFabIDsFromPSNAccountIDsResult
+     */
+    public PlayFabResult<GetPlayFabIDsFromPSNAccountIDsResult> GetPlayFabIDsFromPSNAccountIDs(final GetPlayFabIDsFromPSNAccountIDsRequest request) {
+        try {
+            return PlayFabServerAPI.privateGetPlayFabIDsFromPSNAccountIDsAsync(this, request);
+        } catch(Exception e) {
+            PlayFabResult<GetPlayFabIDsFromPSNAccountIDsResult> exceptionResult = new PlayFabResult<GetPlayFabIDsFromPSNAccountIDsResult>();
+            exceptionResult.Error = PlayFabHTTP.GeneratePfError(-1, PlayFabErrorCode.Unknown, e.getMessage(), null, null);
+            return exceptionResult;
+        }
+    }
+
+    /**
+     * Retrieves the unique PlayFab identifiers for the given set of Steam identifiers. The Steam identifiers are the profile
+     * IDs for the user accounts, available as SteamId in the Steamworks Community API calls.
+     * @param request GetPlayFabIDsFromSteamIDsRequest
+     * @return GetPlayFabIDsFromSteamIDsResult
+     */
+    public PlayFabResult<GetPlayFabIDsFromSteamIDsResult> GetPlayFabIDsFromSteamIDs(final GetPlayFabIDsFromSteamIDsRequest request) {
+        try {
+            return PlayFabServerAPI.privateGetPlayFabIDsFromSteamIDsAsync(this, request);
+        } catch(Exception e) {
+            PlayFabResult<GetPlayFabIDsFromSteamIDsResult> exceptionResult = new PlayFabResult<GetPlayFabIDsFromSteamIDsResult>();
+            exceptionResult.Error = PlayFabHTTP.GeneratePfError(-1, PlayFabErrorCode.Unknown, e.getMessage(), null, null);
+            return exceptionResult;
+        }
+    }
+
+    /**
+     * Retrieves the unique PlayFab identifiers for the given set of XboxLive identifiers.
+     * @param request GetPlayFabIDsFromXboxLiveIDsRequest
+     * @return GetPlayFabIDsFromXboxLiveIDsResult
+     */
+    public PlayFabResult<GetPlayFabIDsFromXboxLiveIDsResult> GetPlayFabIDsFromXboxLiveIDs(final GetPlayFabIDsFromXboxLiveIDsRequest request) {
+        try {
+            return PlayFabServerAPI.privateGetPlayFabIDsFromXboxLiveIDsAsync(this, request);
+        } catch(Exception e) {
+            PlayFabResult<GetPlayFabIDsFromXboxLiveIDsResult> exceptionResult = new PlayFabResult<GetPlayFabIDsFromXboxLiveIDsResult>();
+            exceptionResult.Error = PlayFabHTTP.GeneratePfError(-1, PlayFabErrorCode.Unknown, e.getMessage(), null, null);
+            return exceptionResult;
+        }
+    }
+
+    /**
+     * Retrieves the key-value store of custom publisher settings
+     * @param request GetPublisherDataRequest
+     * @return GetPublisherDataResult
+     */
+    public PlayFabResult<GetPublisherDataResult> GetPublisherData(final GetPublisherDataRequest request) {
+        try {
+            return PlayFabServerAPI.privateGetPublisherDataAsync(this, request);
+        } catch(Exception e) {
+            PlayFabResult<GetPublisherDataResult> exceptionResult = new PlayFabResult<GetPublisherDataResult>();
+            exceptionResult.Error = PlayFabHTTP.GeneratePfError(-1, PlayFabErrorCode.Unknown, e.getMessage(), null, null);
+            return exceptionResult;
+        }
+    }
+
+    /**
+     * Retrieves the configuration information for the specified random results tables for the title, including all ItemId
+     * values and weights
+     * @param request GetRandomResultTablesRequest
+     * @return GetRandomResultTablesResult
+     */
+    public PlayFabResult<GetRandomResultTablesResult> GetRandomResultTables(final GetRandomResultTablesRequest request) {
+        try {
+            return PlayFabServerAPI.privateGetRandomResultTablesAsync(this, request);
+        } catch(Exception e) {
+            PlayFabResult<GetRandomResultTablesResult> exceptionResult = new PlayFabResult<GetRandomResultTablesResult>();
+            exceptionResult.Error = PlayFabHTTP.GeneratePfError(-1, PlayFabErrorCode.Unknown, e.getMessage(), null, null);
+            return exceptionResult;
+        }
+    }
+
+    /**
+     * Retrieves the associated PlayFab account identifiers for the given set of server custom identifiers.
+     * @param request GetServerCustomIDsFromPlayFabIDsRequest
+     * @return GetServerCustomIDsFromPlayFabIDsResult
+     */
+    public PlayFabResult<GetServerCustomIDsFromPlayFabIDsResult> GetServerCustomIDsFromPlayFabIDs(final GetServerCustomIDsFromPlayFabIDsRequest request) {
+        try {
+            return PlayFabServerAPI.privateGetServerCustomIDsFromPlayFabIDsAsync(this, request);
+        } catch(Exception e) {
+            PlayFabResult<GetServerCustomIDsFromPlayFabIDsResult> exceptionResult = new PlayFabResult<GetServerCustomIDsFromPlayFabIDsResult>();
+            exceptionResult.Error = PlayFabHTTP.GeneratePfError(-1, PlayFabErrorCode.Unknown, e.getMessage(), null, null);
+            return exceptionResult;
+        }
+    }
+
+    /**
+     * Retrieves data stored in a shared group object, as well as the list of members in the group. The server can access all
+     * public and private group data. Shared Groups are designed for sharing data between a very small number of players,
+     * please see our guide: https://docs.microsoft.com/gaming/playfab/features/social/groups/using-shared-group-data
+     * @param request GetSharedGroupDataRequest
+     * @return GetSharedGroupDataResult
+     */
+    public PlayFabResult<GetSharedGroupDataResult> GetSharedGroupData(final GetSharedGroupDataRequest request) {
+        try {
+            return PlayFabServerAPI.privateGetSharedGroupDataAsync(this, request);
+        } catch(Exception e) {
+            PlayFabResult<GetSharedGroupDataResult> exceptionResult = new PlayFabResult<GetSharedGroupDataResult>();
+            exceptionResult.Error = PlayFabHTTP.GeneratePfError(-1, PlayFabErrorCode.Unknown, e.getMessage(), null, null);
+            return exceptionResult;
+        }
+    }
+
+    /**
+     * Retrieves the set of items defined for the specified store, including all prices defined, for the specified player
+     * @param request GetStoreItemsServerRequest
+     * @return GetStoreItemsResult
+     */
+    public PlayFabResult<GetStoreItemsResult> GetStoreItems(final GetStoreItemsServerRequest request) {
+        try {
+            return PlayFabServerAPI.privateGetStoreItemsAsync(this, request);
+        } catch(Exception e) {
+            PlayFabResult<GetStoreItemsResult> exceptionResult = new PlayFabResult<GetStoreItemsResult>();
+            exceptionResult.Error = PlayFabHTTP.GeneratePfError(-1, PlayFabErrorCode.Unknown, e.getMessage(), null, null);
+            return exceptionResult;
+        }
+    }
+
+    /**
+     * Retrieves the current server time
+     * @param request GetTimeRequest
+     * @return GetTimeResult
+     */
+    public PlayFabResult<GetTimeResult> GetTime(final GetTimeRequest request) {
+        try {
+            return PlayFabServerAPI.privateGetTimeAsync(this, request);
+        } catch(Exception e) {
+            PlayFabResult<GetTimeResult> exceptionResult = new PlayFabResult<GetTimeResult>();
+            exceptionResult.Error = PlayFabHTTP.GeneratePfError(-1, PlayFabErrorCode.Unknown, e.getMessage(), null, null);
+            return exceptionResult;
+        }
+    }
+
+    /**
+     * Retrieves the key-value store of custom title settings
+     * @param request GetTitleDataRequest
+     * @return GetTitleDataResult
+     */
+    public PlayFabResult<GetTitleDataResult> GetTitleData(final GetTitleDataRequest request) {
+        try {
+            return PlayFabServerAPI.privateGetTitleDataAsync(this, request);
+        } catch(Exception e) {
+            PlayFabResult<GetTitleDataResult> exceptionResult = new PlayFabResult<GetTitleDataResult>();
+            exceptionResult.Error = PlayFabHTTP.GeneratePfError(-1, PlayFabErrorCode.Unknown, e.getMessage(), null, null);
+            return exceptionResult;
+        }
+    }
+
+    /**
+     * Retrieves the key-value store of custom internal title settings
+     * @param request GetTitleDataRequest
+     * @return GetTitleDataResult
+     */
+    public PlayFabResult<GetTitleDataResult> GetTitleInternalData(final GetTitleDataRequest request) {
+        try {
+            return PlayFabServerAPI.privateGetTitleInternalDataAsync(this, request);
+        } catch(Exception e) {
+            PlayFabResult<GetTitleDataResult> exceptionResult = new PlayFabResult<GetTitleDataResult>();
+            exceptionResult.Error = PlayFabHTTP.GeneratePfError(-1, PlayFabErrorCode.Unknown, e.getMessage(), null, null);
+            return exceptionResult;
+        }
+    }
+
+    /**
+     * Retrieves the title news feed, as configured in the developer portal
+     * @param request GetTitleNewsRequest
+     * @return GetTitleNewsResult
+     */
+    public PlayFabResult<GetTitleNewsResult> GetTitleNews(final GetTitleNewsRequest request) {
+        try {
+            return PlayFabServerAPI.privateGetTitleNewsAsync(this, request);
+        } catch(Exception e) {
+            PlayFabResult<GetTitleNewsResult> exceptionResult = new PlayFabResult<GetTitleNewsResult>();
+            exceptionResult.Error = PlayFabHTTP.GeneratePfError(-1, PlayFabErrorCode.Unknown, e.getMessage(), null, null);
+            return exceptionResult;
+        }
+    }
+
+    /**
+     * Retrieves the relevant details for a specified user
+     * @param request GetUserAccountInfoRequest
+     * @return GetUserAccountInfoResult
+     */
+    public PlayFabResult<GetUserAccountInfoResult> GetUserAccountInfo(final GetUserAccountInfoRequest request) {
+        try {
+            return PlayFabServerAPI.privateGetUserAccountInfoAsync(this, request);
+        } catch(Exception e) {
+            PlayFabResult<GetUserAccountInfoResult> exceptionResult = new PlayFabResult<GetUserAccountInfoResult>();
+            exceptionResult.Error = PlayFabHTTP.GeneratePfError(-1, PlayFabErrorCode.Unknown, e.getMessage(), null, null);
+            return exceptionResult;
+        }
+    }
+
+    /**
+     * Gets all bans for a user.
+     * @param request GetUserBansRequest
+     * @return GetUserBansResult
+     */
+    public PlayFabResult<GetUserBansResult> GetUserBans(final GetUserBansRequest request) {
+        try {
+            return PlayFabServerAPI.privateGetUserBansAsync(this, request);
+        } catch(Exception e) {
+            PlayFabResult<GetUserBansResult> exceptionResult = new PlayFabResult<GetUserBansResult>();
+            exceptionResult.Error = PlayFabHTTP.GeneratePfError(-1, PlayFabErrorCode.Unknown, e.getMessage(), null, null);
+            return exceptionResult;
+        }
+    }
+
+    /**
+     * Retrieves the title-specific custom data for the user which is readable and writable by the client
+     * @param request GetUserDataRequest
+     * @return GetUserDataResult
+     */
+    public PlayFabResult<GetUserDataResult> GetUserData(final GetUserDataRequest request) {
+        try {
+            return PlayFabServerAPI.privateGetUserDataAsync(this, request);
+        } catch(Exception e) {
+            PlayFabResult<GetUserDataResult> exceptionResult = new PlayFabResult<GetUserDataResult>();
+            exceptionResult.Error = PlayFabHTTP.GeneratePfError(-1, PlayFabErrorCode.Unknown, e.getMessage(), null, null);
+            return exceptionResult;
+        }
+    }
+
+    /**
+     * Retrieves the title-specific custom data for the user which cannot be accessed by the client
+     * @param request GetUserDataRequest
+     * @return GetUserDataResult
+     */
+    public PlayFabResult<GetUserDataResult> GetUserInternalData(final GetUserDataRequest request) {
+        try {
+            return PlayFabServerAPI.privateGetUserInternalDataAsync(this, request);
+        } catch(Exception e) {
+            PlayFabResult<GetUserDataResult> exceptionResult = new PlayFabResult<GetUserDataResult>();
+            exceptionResult.Error = PlayFabHTTP.GeneratePfError(-1, PlayFabErrorCode.Unknown, e.getMessage(), null, null);
+            return exceptionResult;
+        }
+    }
+
+    /**
+     * Retrieves the specified user's current inventory of virtual goods
+     * @param request GetUserInventoryRequest
+     * @return GetUserInventoryResult
+     */
+    public PlayFabResult<GetUserInventoryResult> GetUserInventory(final GetUserInventoryRequest request) {
+        try {
+            return PlayFabServerAPI.privateGetUserInventoryAsync(this, request);
+        } catch(Exception e) {
+            PlayFabResult<GetUserInventoryResult> exceptionResult = new PlayFabResult<GetUserInventoryResult>();
+            exceptionResult.Error = PlayFabHTTP.GeneratePfError(-1, PlayFabErrorCode.Unknown, e.getMessage(), null, null);
+            return exceptionResult;
+        }
+    }
+
+    /**
+     * Retrieves the publisher-specific custom data for the user which is readable and writable by the client
+     * @param request GetUserDataRequest
+     * @return GetUserDataResult
+     */
+    public PlayFabResult<GetUserDataResult> GetUserPublisherData(final GetUserDataRequest request) {
+        try {
+            return PlayFabServerAPI.privateGetUserPublisherDataAsync(this, request);
+        } catch(Exception e) {
+            PlayFabResult<GetUserDataResult> exceptionResult = new PlayFabResult<GetUserDataResult>();
+            exceptionResult.Error = PlayFabHTTP.GeneratePfError(-1, PlayFabErrorCode.Unknown, e.getMessage(), null, null);
+            return exceptionResult;
+        }
+    }
+
+    /**
+     * Retrieves the publisher-specific custom data for the user which cannot be accessed by the client
+     * @param request GetUserDataRequest
+     * @return GetUserDataResult
+     */
+    public PlayFabResult<GetUserDataResult> GetUserPublisherInternalData(final GetUserDataRequest request) {
+        try {
+            return PlayFabServerAPI.privateGetUserPublisherInternalDataAsync(this, request);
+        } catch(Exception e) {
+            PlayFabResult<GetUserDataResult> exceptionResult = new PlayFabResult<GetUserDataResult>();
+            exceptionResult.Error = PlayFabHTTP.GeneratePfError(-1, PlayFabErrorCode.Unknown, e.getMessage(), null, null);
+            return exceptionResult;
+        }
+    }
+
+    /**
+     * Retrieves the publisher-specific custom data for the user which can only be read by the client
+     * @param request GetUserDataRequest
+     * @return GetUserDataResult
+     */
+    public PlayFabResult<GetUserDataResult> GetUserPublisherReadOnlyData(final GetUserDataRequest request) {
+        try {
+            return PlayFabServerAPI.privateGetUserPublisherReadOnlyDataAsync(this, request);
+        } catch(Exception e) {
+            PlayFabResult<GetUserDataResult> exceptionResult = new PlayFabResult<GetUserDataResult>();
+            exceptionResult.Error = PlayFabHTTP.GeneratePfError(-1, PlayFabErrorCode.Unknown, e.getMessage(), null, null);
+            return exceptionResult;
+        }
+    }
+
+    /**
+     * Retrieves the title-specific custom data for the user which can only be read by the client
+     * @param request GetUserDataRequest
+     * @return GetUserDataResult
+     */
+    public PlayFabResult<GetUserDataResult> GetUserReadOnlyData(final GetUserDataRequest request) {
+        try {
+            return PlayFabServerAPI.privateGetUserReadOnlyDataAsync(this, request);
+        } catch(Exception e) {
+            PlayFabResult<GetUserDataResult> exceptionResult = new PlayFabResult<GetUserDataResult>();
+            exceptionResult.Error = PlayFabHTTP.GeneratePfError(-1, PlayFabErrorCode.Unknown, e.getMessage(), null, null);
+            return exceptionResult;
+        }
+    }
+
+    /**
+     * Grants the specified character type to the user. CharacterIds are not globally unique; characterId must be evaluated
+     * with the parent PlayFabId to guarantee uniqueness.
+     * @param request GrantCharacterToUserRequest
+     * @return GrantCharacterToUserResult
+     */
+    public PlayFabResult<GrantCharacterToUserResult> GrantCharacterToUser(final GrantCharacterToUserRequest request) {
+        try {
+            return PlayFabServerAPI.privateGrantCharacterToUserAsync(this, request);
+        } catch(Exception e) {
+            PlayFabResult<GrantCharacterToUserResult> exceptionResult = new PlayFabResult<GrantCharacterToUserResult>();
+            exceptionResult.Error = PlayFabHTTP.GeneratePfError(-1, PlayFabErrorCode.Unknown, e.getMessage(), null, null);
+            return exceptionResult;
+        }
+    }
+
+    /**
+     * Adds the specified items to the specified character's inventory
+     * @param request GrantItemsToCharacterRequest
+     * @return GrantItemsToCharacterResult
+     */
+    public PlayFabResult<GrantItemsToCharacterResult> GrantItemsToCharacter(final GrantItemsToCharacterRequest request) {
+        try {
+            return PlayFabServerAPI.privateGrantItemsToCharacterAsync(this, request);
+        } catch(Exception e) {
+            PlayFabResult<GrantItemsToCharacterResult> exceptionResult = new PlayFabResult<GrantItemsToCharacterResult>();
+            exceptionResult.Error = PlayFabHTTP.GeneratePfError(-1, PlayFabErrorCode.Unknown, e.getMessage(), null, null);
+            return exceptionResult;
+        }
+    }
+
+    /**
+     * Adds the specified items to the specified user's inventory
+     * @param request GrantItemsToUserRequest
+     * @return GrantItemsToUserResult
+     */
+    public PlayFabResult<GrantItemsToUserResult> GrantItemsToUser(final GrantItemsToUserRequest request) {
+        try {
+            return PlayFabServerAPI.privateGrantItemsToUserAsync(this, request);
+        } catch(Exception e) {
+            PlayFabResult<GrantItemsToUserResult> exceptionResult = new PlayFabResult<GrantItemsToUserResult>();
+            exceptionResult.Error = PlayFabHTTP.GeneratePfError(-1, PlayFabErrorCode.Unknown, e.getMessage(), null, null);
+            return exceptionResult;
+        }
+    }
+
+    /**
+     * Adds the specified items to the specified user inventories
+     * @param request GrantItemsToUsersRequest
+     * @return GrantItemsToUsersResult
+     */
+    public PlayFabResult<GrantItemsToUsersResult> GrantItemsToUsers(final GrantItemsToUsersRequest request) {
+        try {
+            return PlayFabServerAPI.privateGrantItemsToUsersAsync(this, request);
+        } catch(Exception e) {
+            PlayFabResult<GrantItemsToUsersResult> exceptionResult = new PlayFabResult<GrantItemsToUsersResult>();
+            exceptionResult.Error = PlayFabHTTP.GeneratePfError(-1, PlayFabErrorCode.Unknown, e.getMessage(), null, null);
+            return exceptionResult;
+        }
+    }
+
+    /**
+     * Links the PlayStation Network account associated with the provided access code to the user's PlayFab account
+     * @param request LinkPSNAccountRequest
+     * @return LinkPSNAccountResult
+     */
+    public PlayFabResult<LinkPSNAccountResult> LinkPSNAccount(final LinkPSNAccountRequest request) {
+        try {
+            return PlayFabServerAPI.privateLinkPSNAccountAsync(this, request);
+        } catch(Exception e) {
+            PlayFabResult<LinkPSNAccountResult> exceptionResult = new PlayFabResult<LinkPSNAccountResult>();
+            exceptionResult.Error = PlayFabHTTP.GeneratePfError(-1, PlayFabErrorCode.Unknown, e.getMessage(), null, null);
+            return exceptionResult;
+        }
+    }
+
+    /**
+     * Links the custom server identifier, generated by the title, to the user's PlayFab account.
+     * @param request LinkServerCustomIdRequest
+     * @return LinkServerCustomIdResult
+     */
+    public PlayFabResult<LinkServerCustomIdResult> LinkServerCustomId(final LinkServerCustomIdRequest request) {
+        try {
+            return PlayFabServerAPI.privateLinkServerCustomIdAsync(this, request);
+        } catch(Exception e) {
+            PlayFabResult<LinkServerCustomIdResult> exceptionResult = new PlayFabResult<LinkServerCustomIdResult>();
+            exceptionResult.Error = PlayFabHTTP.GeneratePfError(-1, PlayFabErrorCode.Unknown, e.getMessage(), null, null);
+            return exceptionResult;
+        }
+    }
+
+    /**
+     * Links the Xbox Live account associated with the provided access code to the user's PlayFab account
+     * @param request LinkXboxAccountRequest
+     * @return LinkXboxAccountResult
+     */
+    public PlayFabResult<LinkXboxAccountResult> LinkXboxAccount(final LinkXboxAccountRequest request) {
+        try {
+            return PlayFabServerAPI.privateLinkXboxAccountAsync(this, request);
+        } catch(Exception e) {
+            PlayFabResult<LinkXboxAccountResult> exceptionResult = new PlayFabResult<LinkXboxAccountResult>();
+            exceptionResult.Error = PlayFabHTTP.GeneratePfError(-1, PlayFabErrorCode.Unknown, e.getMessage(), null, null);
+            return exceptionResult;
+        }
+    }
+
+    /**
+     * Securely login a game client from an external server backend using a custom identifier for that player. Server Custom ID
+     * and Client Custom ID are mutually exclusive and cannot be used to retrieve the same player account.
+     * @param request LoginWithServerCustomIdRequest
+     * @return ServerLoginResult
+     */
+    public PlayFabResult<ServerLoginResult> LoginWithServerCustomId(final LoginWithServerCustomIdRequest request) {
+        try {
+            return PlayFabServerAPI.privateLoginWithServerCustomIdAsync(this, request);
+        } catch(Exception e) {
+            PlayFabResult<ServerLoginResult> exceptionResult = new PlayFabResult<ServerLoginResult>();
+            exceptionResult.Error = PlayFabHTTP.GeneratePfError(-1, PlayFabErrorCode.Unknown, e.getMessage(), null, null);
+            return exceptionResult;
+        }
+    }
+
+    /**
+     * Signs the user in using an Steam ID, returning a session identifier that can subsequently be used for API calls which
+     * require an authenticated user
+     * @param request LoginWithSteamIdRequest
+     * @return ServerLoginResult
+     */
+    public PlayFabResult<ServerLoginResult> LoginWithSteamId(final LoginWithSteamIdRequest request) {
+        try {
+            return PlayFabServerAPI.privateLoginWithSteamIdAsync(this, request);
+        } catch(Exception e) {
+            PlayFabResult<ServerLoginResult> exceptionResult = new PlayFabResult<ServerLoginResult>();
+            exceptionResult.Error = PlayFabHTTP.GeneratePfError(-1, PlayFabErrorCode.Unknown, e.getMessage(), null, null);
+            return exceptionResult;
+        }
+    }
+
+    /**
+     * Signs the user in using a Xbox Live Token from an external server backend, returning a session identifier that can
+     * subsequently be used for API calls which require an authenticated user
+     * @param request LoginWithXboxRequest
+     * @return ServerLoginResult
+     */
+    public PlayFabResult<ServerLoginResult> LoginWithXbox(final LoginWithXboxRequest request) {
+        try {
+            return PlayFabServerAPI.privateLoginWithXboxAsync(this, request);
+        } catch(Exception e) {
+            PlayFabResult<ServerLoginResult> exceptionResult = new PlayFabResult<ServerLoginResult>();
+            exceptionResult.Error = PlayFabHTTP.GeneratePfError(-1, PlayFabErrorCode.Unknown, e.getMessage(), null, null);
+            return exceptionResult;
+        }
+    }
+
+    /**
+     * Signs the user in using an Xbox ID and Sandbox ID, returning a session identifier that can subsequently be used for API
+     * calls which require an authenticated user
+     * @param request LoginWithXboxIdRequest
+     * @return ServerLoginResult
+     */
+    public PlayFabResult<ServerLoginResult> LoginWithXboxId(final LoginWithXboxIdRequest request) {
+        try {
+            return PlayFabServerAPI.privateLoginWithXboxIdAsync(this, request);
+        } catch(Exception e) {
+            PlayFabResult<ServerLoginResult> exceptionResult = new PlayFabResult<ServerLoginResult>();
+            exceptionResult.Error = PlayFabHTTP.GeneratePfError(-1, PlayFabErrorCode.Unknown, e.getMessage(), null, null);
+            return exceptionResult;
+        }
+    }
+
+    /**
+     * Modifies the number of remaining uses of a player's inventory item
+     * @param request ModifyItemUsesRequest
+     * @return ModifyItemUsesResult
+     */
+    public PlayFabResult<ModifyItemUsesResult> ModifyItemUses(final ModifyItemUsesRequest request) {
+        try {
+            return PlayFabServerAPI.privateModifyItemUsesAsync(this, request);
+        } catch(Exception e) {
+            PlayFabResult<ModifyItemUsesResult> exceptionResult = new PlayFabResult<ModifyItemUsesResult>();
+            exceptionResult.Error = PlayFabHTTP.GeneratePfError(-1, PlayFabErrorCode.Unknown, e.getMessage(), null, null);
+            return exceptionResult;
+        }
+    }
+
+    /**
+     * Moves an item from a character's inventory into another of the users's character's inventory.
+     * @param request MoveItemToCharacterFromCharacterRequest
+     * @return MoveItemToCharacterFromCharacterResult
+     */
+    public PlayFabResult<MoveItemToCharacterFromCharacterResult> MoveItemToCharacterFromCharacter(final MoveItemToCharacterFromCharacterRequest request) {
+        try {
+            return PlayFabServerAPI.privateMoveItemToCharacterFromCharacterAsync(this, request);
+        } catch(Exception e) {
+            PlayFabResult<MoveItemToCharacterFromCharacterResult> exceptionResult = new PlayFabResult<MoveItemToCharacterFromCharacterResult>();
+            exceptionResult.Error = PlayFabHTTP.GeneratePfError(-1, PlayFabErrorCode.Unknown, e.getMessage(), null, null);
+            return exceptionResult;
+        }
+    }
+
+    /**
+     * Moves an item from a user's inventory into their character's inventory.
+     * @param request MoveItemToCharacterFromUserRequest
+     * @return MoveItemToCharacterFromUserResult
+     */
+    public PlayFabResult<MoveItemToCharacterFromUserResult> MoveItemToCharacterFromUser(final MoveItemToCharacterFromUserRequest request) {
+        try {
+            return PlayFabServerAPI.privateMoveItemToCharacterFromUserAsync(this, request);
+        } catch(Exception e) {
+            PlayFabResult<MoveItemToCharacterFromUserResult> exceptionResult = new PlayFabResult<MoveItemToCharacterFromUserResult>();
+            exceptionResult.Error = PlayFabHTTP.GeneratePfError(-1, PlayFabErrorCode.Unknown, e.getMessage(), null, null);
+            return exceptionResult;
+        }
+    }
+
+    /**
+     * Moves an item from a character's inventory into the owning user's inventory.
+     * @param request MoveItemToUserFromCharacterRequest
+     * @return MoveItemToUserFromCharacterResult
+     */
+    public PlayFabResult<MoveItemToUserFromCharacterResult> MoveItemToUserFromCharacter(final MoveItemToUserFromCharacterRequest request) {
+        try {
+            return PlayFabServerAPI.privateMoveItemToUserFromCharacterAsync(this, request);
+        } catch(Exception e) {
+            PlayFabResult<MoveItemToUserFromCharacterResult> exceptionResult = new PlayFabResult<MoveItemToUserFromCharacterResult>();
+            exceptionResult.Error = PlayFabHTTP.GeneratePfError(-1, PlayFabErrorCode.Unknown, e.getMessage(), null, null);
+            return exceptionResult;
+        }
+    }
+
+    /**
+     * Informs the PlayFab match-making service that the user specified has left the Game Server Instance
+     * @param request NotifyMatchmakerPlayerLeftRequest
+     * @return NotifyMatchmakerPlayerLeftResult
+     */
+    public PlayFabResult<NotifyMatchmakerPlayerLeftResult> NotifyMatchmakerPlayerLeft(final NotifyMatchmakerPlayerLeftRequest request) {
+        try {
+            return PlayFabServerAPI.privateNotifyMatchmakerPlayerLeftAsync(this, request);
+        } catch(Exception e) {
+            PlayFabResult<NotifyMatchmakerPlayerLeftResult> exceptionResult = new PlayFabResult<NotifyMatchmakerPlayerLeftResult>();
+            exceptionResult.Error = PlayFabHTTP.GeneratePfError(-1, PlayFabErrorCode.Unknown, e.getMessage(), null, null);
+            return exceptionResult;
+        }
+    }
+
+    /**
+     * Adds the virtual goods associated with the coupon to the user's inventory. Coupons can be generated via the
+     * Economy-&gt;Catalogs tab in the PlayFab Game Manager.
+     * @param request RedeemCouponRequest
+     * @return RedeemCouponResult
+     */
+    public PlayFabResult<RedeemCouponResult> RedeemCoupon(final RedeemCouponRequest request) {
+        try {
+            return PlayFabServerAPI.privateRedeemCouponAsync(this, request);
+        } catch(Exception e) {
+            PlayFabResult<RedeemCouponResult> exceptionResult = new PlayFabResult<RedeemCouponResult>();
+            exceptionResult.Error = PlayFabHTTP.GeneratePfError(-1, PlayFabErrorCode.Unknown, e.getMessage(), null, null);
+            return exceptionResult;
+        }
+    }
+
+    /**
+     * Validates a Game Server session ticket and returns details about the user
+     * @param request RedeemMatchmakerTicketRequest
+     * @return RedeemMatchmakerTicketResult
+     */
+    public PlayFabResult<RedeemMatchmakerTicketResult> RedeemMatchmakerTicket(final RedeemMatchmakerTicketRequest request) {
+        try {
+            return PlayFabServerAPI.privateRedeemMatchmakerTicketAsync(this, request);
+        } catch(Exception e) {
+            PlayFabResult<RedeemMatchmakerTicketResult> exceptionResult = new PlayFabResult<RedeemMatchmakerTicketResult>();
+            exceptionResult.Error = PlayFabHTTP.GeneratePfError(-1, PlayFabErrorCode.Unknown, e.getMessage(), null, null);
+            return exceptionResult;
+        }
+    }
+
+    /**
+     * Set the state of the indicated Game Server Instance. Also update the heartbeat for the instance.
+     * @param request RefreshGameServerInstanceHeartbeatRequest
+     * @return RefreshGameServerInstanceHeartbeatResult
+     */
+    public PlayFabResult<RefreshGameServerInstanceHeartbeatResult> RefreshGameServerInstanceHeartbeat(final RefreshGameServerInstanceHeartbeatRequest request) {
+        try {
+            return PlayFabServerAPI.privateRefreshGameServerInstanceHeartbeatAsync(this, request);
+        } catch(Exception e) {
+            PlayFabResult<RefreshGameServerInstanceHeartbeatResult> exceptionResult = new PlayFabResult<RefreshGameServerInstanceHeartbeatResult>();
+            exceptionResult.Error = PlayFabHTTP.GeneratePfError(-1, PlayFabErrorCode.Unknown, e.getMessage(), null, null);
+            return exceptionResult;
+        }
+    }
+
+    /**
+     * Inform the matchmaker that a new Game Server Instance is added.
+     * @param request RegisterGameRequest
+     * @return RegisterGameResponse
+     */
+    public PlayFabResult<RegisterGameResponse> RegisterGame(final RegisterGameRequest request) {
+        try {
+            return PlayFabServerAPI.privateRegisterGameAsync(this, request);
+        } catch(Exception e) {
+            PlayFabResult<RegisterGameResponse> exceptionResult = new PlayFabResult<RegisterGameResponse>();
+            exceptionResult.Error = PlayFabHTTP.GeneratePfError(-1, PlayFabErrorCode.Unknown, e.getMessage(), null, null);
+            return exceptionResult;
+        }
+    }
+
+    /**
+     * Removes the specified friend from the the user's friend list
+     * @param request RemoveFriendRequest
+     * @return EmptyResponse
+     */
+    public PlayFabResult<EmptyResponse> RemoveFriend(final RemoveFriendRequest request) {
+        try {
+            return PlayFabServerAPI.privateRemoveFriendAsync(this, request);
+        } catch(Exception e) {
+            PlayFabResult<EmptyResponse> exceptionResult = new PlayFabResult<EmptyResponse>();
+            exceptionResult.Error = PlayFabHTTP.GeneratePfError(-1, PlayFabErrorCode.Unknown, e.getMessage(), null, null);
+            return exceptionResult;
+        }
+    }
+
+    /**
+     * Removes the specified generic service identifier from the player's PlayFab account.
+     * @param request RemoveGenericIDRequest
+     * @return EmptyResult
+     */
+    public PlayFabResult<EmptyResult> RemoveGenericID(final RemoveGenericIDRequest request) {
+        try {
+            return PlayFabServerAPI.privateRemoveGenericIDAsync(this, request);
+        } catch(Exception e) {
+            PlayFabResult<EmptyResult> exceptionResult = new PlayFabResult<EmptyResult>();
+            exceptionResult.Error = PlayFabHTTP.GeneratePfError(-1, PlayFabErrorCode.Unknown, e.getMessage(), null, null);
+            return exceptionResult;
+        }
+    }
+
+    /**
+     * Remove a given tag from a player profile. The tag's namespace is automatically generated based on the source of the tag.
+     * @param request RemovePlayerTagRequest
+     * @return RemovePlayerTagResult
+     */
+    public PlayFabResult<RemovePlayerTagResult> RemovePlayerTag(final RemovePlayerTagRequest request) {
+        try {
+            return PlayFabServerAPI.privateRemovePlayerTagAsync(this, request);
+        } catch(Exception e) {
+            PlayFabResult<RemovePlayerTagResult> exceptionResult = new PlayFabResult<RemovePlayerTagResult>();
+            exceptionResult.Error = PlayFabHTTP.GeneratePfError(-1, PlayFabErrorCode.Unknown, e.getMessage(), null, null);
+            return exceptionResult;
+        }
+    }
+
+    /**
+     * Removes users from the set of those able to update the shared data and the set of users in the group. Only users in the
+     * group can remove members. If as a result of the call, zero users remain with access, the group and its associated data
+     * will be deleted. Shared Groups are designed for sharing data between a very small number of players, please see our
+     * guide: https://docs.microsoft.com/gaming/playfab/features/social/groups/using-shared-group-data
+     * @param request RemoveSharedGroupMembersRequest
+     * @return RemoveSharedGroupMembersResult
+     */
+    public PlayFabResult<RemoveSharedGroupMembersResult> RemoveSharedGroupMembers(final RemoveSharedGroupMembersRequest request) {
+        try {
+            return PlayFabServerAPI.privateRemoveSharedGroupMembersAsync(this, request);
+        } catch(Exception e) {
+            PlayFabResult<RemoveSharedGroupMembersResult> exceptionResult = new PlayFabResult<RemoveSharedGroupMembersResult>();
+            exceptionResult.Error = PlayFabHTTP.GeneratePfError(-1, PlayFabErrorCode.Unknown, e.getMessage(), null, null);
+            return exceptionResult;
+        }
+    }
+
+    /**
+     * Submit a report about a player (due to bad bahavior, etc.) on behalf of another player, so that customer service
+     * representatives for the title can take action concerning potentially toxic players.
+     * @param request ReportPlayerServerRequest
+     * @return ReportPlayerServerResult
+     */
+    public PlayFabResult<ReportPlayerServerResult> ReportPlayer(final ReportPlayerServerRequest request) {
+        try {
+            return PlayFabServerAPI.privateReportPlayerAsync(this, request);
+        } catch(Exception e) {
+            PlayFabResult<ReportPlayerServerResult> exceptionResult = new PlayFabResult<ReportPlayerServerResult>();
+            exceptionResult.Error = PlayFabHTTP.GeneratePfError(-1, PlayFabErrorCode.Unknown, e.getMessage(), null, null);
+            return exceptionResult;
+        }
+    }
+
+    /**
+     * Revoke all active bans for a user.
+     * @param request RevokeAllBansForUserRequest
+     * @return RevokeAllBansForUserResult
+     */
+    public PlayFabResult<RevokeAllBansForUserResult> RevokeAllBansForUser(final RevokeAllBansForUserRequest request) {
+        try {
+            return PlayFabServerAPI.privateRevokeAllBansForUserAsync(this, request);
+        } catch(Exception e) {
+            PlayFabResult<RevokeAllBansForUserResult> exceptionResult = new PlayFabResult<RevokeAllBansForUserResult>();
+            exceptionResult.Error = PlayFabHTTP.GeneratePfError(-1, PlayFabErrorCode.Unknown, e.getMessage(), null, null);
+            return exceptionResult;
+        }
+    }
+
+    /**
+     * Revoke all active bans specified with BanId.
+     * @param request RevokeBansRequest
+     * @return RevokeBansResult
+     */
+    public PlayFabResult<RevokeBansResult> RevokeBans(final RevokeBansRequest request) {
+        try {
+            return PlayFabServerAPI.privateRevokeBansAsync(this, request);
+        } catch(Exception e) {
+            PlayFabResult<RevokeBansResult> exceptionResult = new PlayFabResult<RevokeBansResult>();
+            exceptionResult.Error = PlayFabHTTP.GeneratePfError(-1, PlayFabErrorCode.Unknown, e.getMessage(), null, null);
+            return exceptionResult;
+        }
+    }
+
+    /**
+     * Revokes access to an item in a user's inventory
+     * @param request RevokeInventoryItemRequest
+     * @return RevokeInventoryResult
+     */
+    public PlayFabResult<RevokeInventoryResult> RevokeInventoryItem(final RevokeInventoryItemRequest request) {
+        try {
+            return PlayFabServerAPI.privateRevokeInventoryItemAsync(this, request);
+        } catch(Exception e) {
+            PlayFabResult<RevokeInventoryResult> exceptionResult = new PlayFabResult<RevokeInventoryResult>();
+            exceptionResult.Error = PlayFabHTTP.GeneratePfError(-1, PlayFabErrorCode.Unknown, e.getMessage(), null, null);
+            return exceptionResult;
+        }
+    }
+
+    /**
+     * Revokes access for up to 25 items across multiple users and characters.
+     * @param request RevokeInventoryItemsRequest
+     * @return RevokeInventoryItemsResult
+     */
+    public PlayFabResult<RevokeInventoryItemsResult> RevokeInventoryItems(final RevokeInventoryItemsRequest request) {
+        try {
+            return PlayFabServerAPI.privateRevokeInventoryItemsAsync(this, request);
+        } catch(Exception e) {
+            PlayFabResult<RevokeInventoryItemsResult> exceptionResult = new PlayFabResult<RevokeInventoryItemsResult>();
+            exceptionResult.Error = PlayFabHTTP.GeneratePfError(-1, PlayFabErrorCode.Unknown, e.getMessage(), null, null);
+            return exceptionResult;
+        }
+    }
+
+    /**
+     * Saves push notification template for title
+     * @param request SavePushNotificationTemplateRequest
+     * @return SavePushNotificationTemplateResult
+     */
+    public PlayFabResult<SavePushNotificationTemplateResult> SavePushNotificationTemplate(final SavePushNotificationTemplateRequest request) {
+        try {
+            return PlayFabServerAPI.privateSavePushNotificationTemplateAsync(this, request);
+        } catch(Exception e) {
+            PlayFabResult<SavePushNotificationTemplateResult> exceptionResult = new PlayFabResult<SavePushNotificationTemplateResult>();
+            exceptionResult.Error = PlayFabHTTP.GeneratePfError(-1, PlayFabErrorCode.Unknown, e.getMessage(), null, null);
+            return exceptionResult;
+        }
+    }
+
+    /**
+     * Forces an email to be sent to the registered contact email address for the user's account based on an account recovery
+     * email template
+     * @param request SendCustomAccountRecoveryEmailRequest
+     * @return SendCustomAccountRecoveryEmailResult
+     */
+    public PlayFabResult<SendCustomAccountRecoveryEmailResult> SendCustomAccountRecoveryEmail(final SendCustomAccountRecoveryEmailRequest request) {
+        try {
+            return PlayFabServerAPI.privateSendCustomAccountRecoveryEmailAsync(this, request);
+        } catch(Exception e) {
+            PlayFabResult<SendCustomAccountRecoveryEmailResult> exceptionResult = new PlayFabResult<SendCustomAccountRecoveryEmailResult>();
+            exceptionResult.Error = PlayFabHTTP.GeneratePfError(-1, PlayFabErrorCode.Unknown, e.getMessage(), null, null);
+            return exceptionResult;
+        }
+    }
+
+    /**
+     * Sends an email based on an email template to a player's contact email
+     * @param request SendEmailFromTemplateRequest
+     * @return SendEmailFromTemplateResult
+     */
+    public PlayFabResult<SendEmailFromTemplateResult> SendEmailFromTemplate(final SendEmailFromTemplateRequest request) {
+        try {
+            return PlayFabServerAPI.privateSendEmailFromTemplateAsync(this, request);
+        } catch(Exception e) {
+            PlayFabResult<SendEmailFromTemplateResult> exceptionResult = new PlayFabResult<SendEmailFromTemplateResult>();
+            exceptionResult.Error = PlayFabHTTP.GeneratePfError(-1, PlayFabErrorCode.Unknown, e.getMessage(), null, null);
+            return exceptionResult;
+        }
+    }
+
+    /**
+     * Sends an iOS/Android Push Notification to a specific user, if that user's device has been configured for Push
+     * Notifications in PlayFab. If a user has linked both Android and iOS devices, both will be notified.
+     * @param request SendPushNotificationRequest
+     * @return SendPushNotificationResult
+     */
+    public PlayFabResult<SendPushNotificationResult> SendPushNotification(final SendPushNotificationRequest request) {
+        try {
+            return PlayFabServerAPI.privateSendPushNotificationAsync(this, request);
+        } catch(Exception e) {
+            PlayFabResult<SendPushNotificationResult> exceptionResult = new PlayFabResult<SendPushNotificationResult>();
+            exceptionResult.Error = PlayFabHTTP.GeneratePfError(-1, PlayFabErrorCode.Unknown, e.getMessage(), null, null);
+            return exceptionResult;
+        }
+    }
+
+    /**
+     * Sends an iOS/Android Push Notification template to a specific user, if that user's device has been configured for Push
+     * Notifications in PlayFab. If a user has linked both Android and iOS devices, both will be notified.
+     * @param request SendPushNotificationFromTemplateRequest
+     * @return SendPushNotificationResult
+     */
+    public PlayFabResult<SendPushNotificationResult> SendPushNotificationFromTemplate(final SendPushNotificationFromTemplateRequest request) {
+        try {
+            return PlayFabServerAPI.privateSendPushNotificationFromTemplateAsync(this, request);
+        } catch(Exception e) {
+            PlayFabResult<SendPushNotificationResult> exceptionResult = new PlayFabResult<SendPushNotificationResult>();
+            exceptionResult.Error = PlayFabHTTP.GeneratePfError(-1, PlayFabErrorCode.Unknown, e.getMessage(), null, null);
+            return exceptionResult;
+        }
+    }
+
+    /**
+     * Updates the tag list for a specified user in the friend list of another user
+     * @param request SetFriendTagsRequest
+     * @return EmptyResponse
+     */
+    public PlayFabResult<EmptyResponse> SetFriendTags(final SetFriendTagsRequest request) {
+        try {
+            return PlayFabServerAPI.privateSetFriendTagsAsync(this, request);
+        } catch(Exception e) {
+            PlayFabResult<EmptyResponse> exceptionResult = new PlayFabResult<EmptyResponse>();
+            exceptionResult.Error = PlayFabHTTP.GeneratePfError(-1, PlayFabErrorCode.Unknown, e.getMessage(), null, null);
+            return exceptionResult;
+        }
+    }
+
+    /**
+     * Sets the custom data of the indicated Game Server Instance
+     * @param request SetGameServerInstanceDataRequest
+     * @return SetGameServerInstanceDataResult
+     */
+    public PlayFabResult<SetGameServerInstanceDataResult> SetGameServerInstanceData(final SetGameServerInstanceDataRequest request) {
+        try {
+            return PlayFabServerAPI.privateSetGameServerInstanceDataAsync(this, request);
+        } catch(Exception e) {
+            PlayFabResult<SetGameServerInstanceDataResult> exceptionResult = new PlayFabResult<SetGameServerInstanceDataResult>();
+            exceptionResult.Error = PlayFabHTTP.GeneratePfError(-1, PlayFabErrorCode.Unknown, e.getMessage(), null, null);
+            return exceptionResult;
+        }
+    }
+
+    /**
+     * Set the state of the indicated Game Server Instance.
+     * @param request SetGameServerInstanceStateRequest
+     * @return SetGameServerInstanceStateResult
+     */
+    public PlayFabResult<SetGameServerInstanceStateResult> SetGameServerInstanceState(final SetGameServerInstanceStateRequest request) {
+        try {
+            return PlayFabServerAPI.privateSetGameServerInstanceStateAsync(this, request);
+        } catch(Exception e) {
+            PlayFabResult<SetGameServerInstanceStateResult> exceptionResult = new PlayFabResult<SetGameServerInstanceStateResult>();
+            exceptionResult.Error = PlayFabHTTP.GeneratePfError(-1, PlayFabErrorCode.Unknown, e.getMessage(), null, null);
+            return exceptionResult;
+        }
+    }
+
+    /**
+     * Set custom tags for the specified Game Server Instance
+     * @param request SetGameServerInstanceTagsRequest
+     * @return SetGameServerInstanceTagsResult
+     */
+    public PlayFabResult<SetGameServerInstanceTagsResult> SetGameServerInstanceTags(final SetGameServerInstanceTagsRequest request) {
+        try {
+            return PlayFabServerAPI.privateSetGameServerInstanceTagsAsync(this, request);
+        } catch(Exception e) {
+            PlayFabResult<SetGameServerInstanceTagsResult> exceptionResult = new PlayFabResult<SetGameServerInstanceTagsResult>();
+            exceptionResult.Error = PlayFabHTTP.GeneratePfError(-1, PlayFabErrorCode.Unknown, e.getMessage(), null, null);
+            return exceptionResult;
+        }
+    }
+
+    /**
+     * Sets the player's secret if it is not already set. Player secrets are used to sign API requests. To reset a player's
+     * secret use the Admin or Server API method SetPlayerSecret.
+     * @param request SetPlayerSecretRequest
+     * @return SetPlayerSecretResult
+     */
+    public PlayFabResult<SetPlayerSecretResult> SetPlayerSecret(final SetPlayerSecretRequest request) {
+        try {
+            return PlayFabServerAPI.privateSetPlayerSecretAsync(this, request);
+        } catch(Exception e) {
+            PlayFabResult<SetPlayerSecretResult> exceptionResult = new PlayFabResult<SetPlayerSecretResult>();
+            exceptionResult.Error = PlayFabHTTP.GeneratePfError(-1, PlayFabErrorCode.Unknown, e.getMessage(), null, null);
+            return exceptionResult;
+        }
+    }
+
+    /**
+     * Updates the key-value store of custom publisher settings
+     * @param request SetPublisherDataRequest
+     * @return SetPublisherDataResult
+     */
+    public PlayFabResult<SetPublisherDataResult> SetPublisherData(final SetPublisherDataRequest request) {
+        try {
+            return PlayFabServerAPI.privateSetPublisherDataAsync(this, request);
+        } catch(Exception e) {
+            PlayFabResult<SetPublisherDataResult> exceptionResult = new PlayFabResult<SetPublisherDataResult>();
+            exceptionResult.Error = PlayFabHTTP.GeneratePfError(-1, PlayFabErrorCode.Unknown, e.getMessage(), null, null);
+            return exceptionResult;
+        }
+    }
+
+    /**
+     * Updates the key-value store of custom title settings
+     * @param request SetTitleDataRequest
+     * @return SetTitleDataResult
+     */
+    public PlayFabResult<SetTitleDataResult> SetTitleData(final SetTitleDataRequest request) {
+        try {
+            return PlayFabServerAPI.privateSetTitleDataAsync(this, request);
+        } catch(Exception e) {
+            PlayFabResult<SetTitleDataResult> exceptionResult = new PlayFabResult<SetTitleDataResult>();
+            exceptionResult.Error = PlayFabHTTP.GeneratePfError(-1, PlayFabErrorCode.Unknown, e.getMessage(), null, null);
+            return exceptionResult;
+        }
+    }
+
+    /**
+     * Updates the key-value store of custom title settings
+     * @param request SetTitleDataRequest
+     * @return SetTitleDataResult
+     */
+    public PlayFabResult<SetTitleDataResult> SetTitleInternalData(final SetTitleDataRequest request) {
+        try {
+            return PlayFabServerAPI.privateSetTitleInternalDataAsync(this, request);
+        } catch(Exception e) {
+            PlayFabResult<SetTitleDataResult> exceptionResult = new PlayFabResult<SetTitleDataResult>();
+            exceptionResult.Error = PlayFabHTTP.GeneratePfError(-1, PlayFabErrorCode.Unknown, e.getMessage(), null, null);
+            return exceptionResult;
+        }
+    }
+
+    /**
+     * Decrements the character's balance of the specified virtual currency by the stated amount. It is possible to make a VC
+     * balance negative with this API.
+     * @param request SubtractCharacterVirtualCurrencyRequest
+     * @return ModifyCharacterVirtualCurrencyResult
+     */
+    public PlayFabResult<ModifyCharacterVirtualCurrencyResult> SubtractCharacterVirtualCurrency(final SubtractCharacterVirtualCurrencyRequest request) {
+        try {
+            return PlayFabServerAPI.privateSubtractCharacterVirtualCurrencyAsync(this, request);
+        } catch(Exception e) {
+            PlayFabResult<ModifyCharacterVirtualCurrencyResult> exceptionResult = new PlayFabResult<ModifyCharacterVirtualCurrencyResult>();
+            exceptionResult.Error = PlayFabHTTP.GeneratePfError(-1, PlayFabErrorCode.Unknown, e.getMessage(), null, null);
+            return exceptionResult;
+        }
+    }
+
+    /**
+     * Decrements the user's balance of the specified virtual currency by the stated amount. It is possible to make a VC
+     * balance negative with this API.
+     * @param request SubtractUserVirtualCurrencyRequest
+     * @return ModifyUserVirtualCurrencyResult
+     */
+    public PlayFabResult<ModifyUserVirtualCurrencyResult> SubtractUserVirtualCurrency(final SubtractUserVirtualCurrencyRequest request) {
+        try {
+            return PlayFabServerAPI.privateSubtractUserVirtualCurrencyAsync(this, request);
+        } catch(Exception e) {
+            PlayFabResult<ModifyUserVirtualCurrencyResult> exceptionResult = new PlayFabResult<ModifyUserVirtualCurrencyResult>();
+            exceptionResult.Error = PlayFabHTTP.GeneratePfError(-1, PlayFabErrorCode.Unknown, e.getMessage(), null, null);
+            return exceptionResult;
+        }
+    }
+
+    /**
+     * Unlinks the related PSN account from the user's PlayFab account
+     * @param request UnlinkPSNAccountRequest
+     * @return UnlinkPSNAccountResult
+     */
+    public PlayFabResult<UnlinkPSNAccountResult> UnlinkPSNAccount(final UnlinkPSNAccountRequest request) {
+        try {
+            return PlayFabServerAPI.privateUnlinkPSNAccountAsync(this, request);
+        } catch(Exception e) {
+            PlayFabResult<UnlinkPSNAccountResult> exceptionResult = new PlayFabResult<UnlinkPSNAccountResult>();
+            exceptionResult.Error = PlayFabHTTP.GeneratePfError(-1, PlayFabErrorCode.Unknown, e.getMessage(), null, null);
+            return exceptionResult;
+        }
+    }
+
+    /**
+     * Unlinks the custom server identifier from the user's PlayFab account.
+     * @param request UnlinkServerCustomIdRequest
+     * @return UnlinkServerCustomIdResult
+     */
+    public PlayFabResult<UnlinkServerCustomIdResult> UnlinkServerCustomId(final UnlinkServerCustomIdRequest request) {
+        try {
+            return PlayFabServerAPI.privateUnlinkServerCustomIdAsync(this, request);
+        } catch(Exception e) {
+            PlayFabResult<UnlinkServerCustomIdResult> exceptionResult = new PlayFabResult<UnlinkServerCustomIdResult>();
+            exceptionResult.Error = PlayFabHTTP.GeneratePfError(-1, PlayFabErrorCode.Unknown, e.getMessage(), null, null);
+            return exceptionResult;
+        }
+    }
+
+    /**
+     * Unlinks the related Xbox Live account from the user's PlayFab account
+     * @param request UnlinkXboxAccountRequest
+     * @return UnlinkXboxAccountResult
+     */
+    public PlayFabResult<UnlinkXboxAccountResult> UnlinkXboxAccount(final UnlinkXboxAccountRequest request) {
+        try {
+            return PlayFabServerAPI.privateUnlinkXboxAccountAsync(this, request);
+        } catch(Exception e) {
+            PlayFabResult<UnlinkXboxAccountResult> exceptionResult = new PlayFabResult<UnlinkXboxAccountResult>();
+            exceptionResult.Error = PlayFabHTTP.GeneratePfError(-1, PlayFabErrorCode.Unknown, e.getMessage(), null, null);
+            return exceptionResult;
+        }
+    }
+
+    /**
+     * Opens a specific container (ContainerItemInstanceId), with a specific key (KeyItemInstanceId, when required), and
+     * returns the contents of the opened container. If the container (and key when relevant) are consumable (RemainingUses &gt;
+     * 0), their RemainingUses will be decremented, consistent with the operation of ConsumeItem.
+     * @param request UnlockContainerInstanceRequest
+     * @return UnlockContainerItemResult
+     */
+    public PlayFabResult<UnlockContainerItemResult> UnlockContainerInstance(final UnlockContainerInstanceRequest request) {
+        try {
+            return PlayFabServerAPI.privateUnlockContainerInstanceAsync(this, request);
+        } catch(Exception e) {
+            PlayFabResult<UnlockContainerItemResult> exceptionResult = new PlayFabResult<UnlockContainerItemResult>();
+            exceptionResult.Error = PlayFabHTTP.GeneratePfError(-1, PlayFabErrorCode.Unknown, e.getMessage(), null, null);
+            return exceptionResult;
+        }
+    }
+
+    /**
+     * Searches Player or Character inventory for any ItemInstance matching the given CatalogItemId, if necessary unlocks it
+     * using any appropriate key, and returns the contents of the opened container. If the container (and key when relevant)
+     * are consumable (RemainingUses &gt; 0), their RemainingUses will be decremented, consistent with the operation of
+     * ConsumeItem.
+     * @param request UnlockContainerItemRequest
+     * @return UnlockContainerItemResult
+     */
+    public PlayFabResult<UnlockContainerItemResult> UnlockContainerItem(final UnlockContainerItemRequest request) {
+        try {
+            return PlayFabServerAPI.privateUnlockContainerItemAsync(this, request);
+        } catch(Exception e) {
+            PlayFabResult<UnlockContainerItemResult> exceptionResult = new PlayFabResult<UnlockContainerItemResult>();
+            exceptionResult.Error = PlayFabHTTP.GeneratePfError(-1, PlayFabErrorCode.Unknown, e.getMessage(), null, null);
+            return exceptionResult;
+        }
+    }
+
+    /**
+     * Update the avatar URL of the specified player
+     * @param request UpdateAvatarUrlRequest
+     * @return EmptyResponse
+     */
+    public PlayFabResult<EmptyResponse> UpdateAvatarUrl(final UpdateAvatarUrlRequest request) {
+        try {
+            return PlayFabServerAPI.privateUpdateAvatarUrlAsync(this, request);
+        } catch(Exception e) {
+            PlayFabResult<EmptyResponse> exceptionResult = new PlayFabResult<EmptyResponse>();
+            exceptionResult.Error = PlayFabHTTP.GeneratePfError(-1, PlayFabErrorCode.Unknown, e.getMessage(), null, null);
+            return exceptionResult;
+        }
+    }
+
+    /**
+     * Updates information of a list of existing bans specified with Ban Ids.
+     * @param request UpdateBansRequest
+     * @return UpdateBansResult
+     */
+    public PlayFabResult<UpdateBansResult> UpdateBans(final UpdateBansRequest request) {
+        try {
+            return PlayFabServerAPI.privateUpdateBansAsync(this, request);
+        } catch(Exception e) {
+            PlayFabResult<UpdateBansResult> exceptionResult = new PlayFabResult<UpdateBansResult>();
+            exceptionResult.Error = PlayFabHTTP.GeneratePfError(-1, PlayFabErrorCode.Unknown, e.getMessage(), null, null);
+            return exceptionResult;
+        }
+    }
+
+    /**
+     * Updates the title-specific custom data for the user's character which is readable and writable by the client
+     * @param request UpdateCharacterDataRequest
+     * @return UpdateCharacterDataResult
+     */
+    public PlayFabResult<UpdateCharacterDataResult> UpdateCharacterData(final UpdateCharacterDataRequest request) {
+        try {
+            return PlayFabServerAPI.privateUpdateCharacterDataAsync(this, request);
+        } catch(Exception e) {
+            PlayFabResult<UpdateCharacterDataResult> exceptionResult = new PlayFabResult<UpdateCharacterDataResult>();
+            exceptionResult.Error = PlayFabHTTP.GeneratePfError(-1, PlayFabErrorCode.Unknown, e.getMessage(), null, null);
+            return exceptionResult;
+        }
+    }
+
+    /**
+     * Updates the title-specific custom data for the user's character which cannot be accessed by the client
+     * @param request UpdateCharacterDataRequest
+     * @return UpdateCharacterDataResult
+     */
+    public PlayFabResult<UpdateCharacterDataResult> UpdateCharacterInternalData(final UpdateCharacterDataRequest request) {
+        try {
+            return PlayFabServerAPI.privateUpdateCharacterInternalDataAsync(this, request);
+        } catch(Exception e) {
+            PlayFabResult<UpdateCharacterDataResult> exceptionResult = new PlayFabResult<UpdateCharacterDataResult>();
+            exceptionResult.Error = PlayFabHTTP.GeneratePfError(-1, PlayFabErrorCode.Unknown, e.getMessage(), null, null);
+            return exceptionResult;
+        }
+    }
+
+    /**
+     * Updates the title-specific custom data for the user's character which can only be read by the client
+     * @param request UpdateCharacterDataRequest
+     * @return UpdateCharacterDataResult
+     */
+    public PlayFabResult<UpdateCharacterDataResult> UpdateCharacterReadOnlyData(final UpdateCharacterDataRequest request) {
+        try {
+            return PlayFabServerAPI.privateUpdateCharacterReadOnlyDataAsync(this, request);
+        } catch(Exception e) {
+            PlayFabResult<UpdateCharacterDataResult> exceptionResult = new PlayFabResult<UpdateCharacterDataResult>();
+            exceptionResult.Error = PlayFabHTTP.GeneratePfError(-1, PlayFabErrorCode.Unknown, e.getMessage(), null, null);
+            return exceptionResult;
+        }
+    }
+
+    /**
+     * Updates the values of the specified title-specific statistics for the specific character
+     * @param request UpdateCharacterStatisticsRequest
+     * @return UpdateCharacterStatisticsResult
+     */
+    public PlayFabResult<UpdateCharacterStatisticsResult> UpdateCharacterStatistics(final UpdateCharacterStatisticsRequest request) {
+        try {
+            return PlayFabServerAPI.privateUpdateCharacterStatisticsAsync(this, request);
+        } catch(Exception e) {
+            PlayFabResult<UpdateCharacterStatisticsResult> exceptionResult = new PlayFabResult<UpdateCharacterStatisticsResult>();
+            exceptionResult.Error = PlayFabHTTP.GeneratePfError(-1, PlayFabErrorCode.Unknown, e.getMessage(), null, null);
+            return exceptionResult;
+        }
+    }
+
+    /**
+     * Updates the values of the specified title-specific statistics for the user
+     * @param request UpdatePlayerStatisticsRequest
+     * @return UpdatePlayerStatisticsResult
+     */
+    public PlayFabResult<UpdatePlayerStatisticsResult> UpdatePlayerStatistics(final UpdatePlayerStatisticsRequest request) {
+        try {
+            return PlayFabServerAPI.privateUpdatePlayerStatisticsAsync(this, request);
+        } catch(Exception e) {
+            PlayFabResult<UpdatePlayerStatisticsResult> exceptionResult = new PlayFabResult<UpdatePlayerStatisticsResult>();
+            exceptionResult.Error = PlayFabHTTP.GeneratePfError(-1, PlayFabErrorCode.Unknown, e.getMessage(), null, null);
+            return exceptionResult;
+        }
+    }
+
+    /**
+     * Adds, updates, and removes data keys for a shared group object. If the permission is set to Public, all fields updated
+     * or added in this call will be readable by users not in the group. By default, data permissions are set to Private.
+     * Regardless of the permission setting, only members of the group (and the server) can update the data. Shared Groups are
+     * designed for sharing data between a very small number of players, please see our guide:
+     * https://docs.microsoft.com/gaming/playfab/features/social/groups/using-shared-group-data
+     * @param request UpdateSharedGroupDataRequest
+     * @return UpdateSharedGroupDataResult
+     */
+    public PlayFabResult<UpdateSharedGroupDataResult> UpdateSharedGroupData(final UpdateSharedGroupDataRequest request) {
+        try {
+            return PlayFabServerAPI.privateUpdateSharedGroupDataAsync(this, request);
+        } catch(Exception e) {
+            PlayFabResult<UpdateSharedGroupDataResult> exceptionResult = new PlayFabResult<UpdateSharedGroupDataResult>();
+            exceptionResult.Error = PlayFabHTTP.GeneratePfError(-1, PlayFabErrorCode.Unknown, e.getMessage(), null, null);
+            return exceptionResult;
+        }
+    }
+
+    /**
+     * Updates the title-specific custom data for the user which is readable and writable by the client
+     * @param request UpdateUserDataRequest
+     * @return UpdateUserDataResult
+     */
+    public PlayFabResult<UpdateUserDataResult> UpdateUserData(final UpdateUserDataRequest request) {
+        try {
+            return PlayFabServerAPI.privateUpdateUserDataAsync(this, request);
+        } catch(Exception e) {
+            PlayFabResult<UpdateUserDataResult> exceptionResult = new PlayFabResult<UpdateUserDataResult>();
+            exceptionResult.Error = PlayFabHTTP.GeneratePfError(-1, PlayFabErrorCode.Unknown, e.getMessage(), null, null);
+            return exceptionResult;
+        }
+    }
+
+    /**
+     * Updates the title-specific custom data for the user which cannot be accessed by the client
+     * @param request UpdateUserInternalDataRequest
+     * @return UpdateUserDataResult
+     */
+    public PlayFabResult<UpdateUserDataResult> UpdateUserInternalData(final UpdateUserInternalDataRequest request) {
+        try {
+            return PlayFabServerAPI.privateUpdateUserInternalDataAsync(this, request);
+        } catch(Exception e) {
+            PlayFabResult<UpdateUserDataResult> exceptionResult = new PlayFabResult<UpdateUserDataResult>();
+            exceptionResult.Error = PlayFabHTTP.GeneratePfError(-1, PlayFabErrorCode.Unknown, e.getMessage(), null, null);
+            return exceptionResult;
+        }
+    }
+
+    /**
+     * Updates the key-value pair data tagged to the specified item, which is read-only from the client.
+     * @param request UpdateUserInventoryItemDataRequest
+     * @return EmptyResponse
+     */
+    public PlayFabResult<EmptyResponse> UpdateUserInventoryItemCustomData(final UpdateUserInventoryItemDataRequest request) {
+        try {
+            return PlayFabServerAPI.privateUpdateUserInventoryItemCustomDataAsync(this, request);
+        } catch(Exception e) {
+            PlayFabResult<EmptyResponse> exceptionResult = new PlayFabResult<EmptyResponse>();
+            exceptionResult.Error = PlayFabHTTP.GeneratePfError(-1, PlayFabErrorCode.Unknown, e.getMessage(), null, null);
+            return exceptionResult;
+        }
+    }
+
+    /**
+     * Updates the publisher-specific custom data for the user which is readable and writable by the client
+     * @param request UpdateUserDataRequest
+     * @return UpdateUserDataResult
+     */
+    public PlayFabResult<UpdateUserDataResult> UpdateUserPublisherData(final UpdateUserDataRequest request) {
+        try {
+            return PlayFabServerAPI.privateUpdateUserPublisherDataAsync(this, request);
+        } catch(Exception e) {
+            PlayFabResult<UpdateUserDataResult> exceptionResult = new PlayFabResult<UpdateUserDataResult>();
+            exceptionResult.Error = PlayFabHTTP.GeneratePfError(-1, PlayFabErrorCode.Unknown, e.getMessage(), null, null);
+            return exceptionResult;
+        }
+    }
+
+    /**
+     * Updates the publisher-specific custom data for the user which cannot be accessed by the client
+     * @param request UpdateUserInternalDataRequest
+     * @return UpdateUserDataResult
+     */
+    public PlayFabResult<UpdateUserDataResult> UpdateUserPublisherInternalData(final UpdateUserInternalDataRequest request) {
+        try {
+            return PlayFabServerAPI.privateUpdateUserPublisherInternalDataAsync(this, request);
+        } catch(Exception e) {
+            PlayFabResult<UpdateUserDataResult> exceptionResult = new PlayFabResult<UpdateUserDataResult>();
+            exceptionResult.Error = PlayFabHTTP.GeneratePfError(-1, PlayFabErrorCode.Unknown, e.getMessage(), null, null);
+            return exceptionResult;
+        }
+    }
+
+    /**
+     * Updates the publisher-specific custom data for the user which can only be read by the client
+     * @param request UpdateUserDataRequest
+     * @return UpdateUserDataResult
+     */
+    public PlayFabResult<UpdateUserDataResult> UpdateUserPublisherReadOnlyData(final UpdateUserDataRequest request) {
+        try {
+            return PlayFabServerAPI.privateUpdateUserPublisherReadOnlyDataAsync(this, request);
+        } catch(Exception e) {
+            PlayFabResult<UpdateUserDataResult> exceptionResult = new PlayFabResult<UpdateUserDataResult>();
+            exceptionResult.Error = PlayFabHTTP.GeneratePfError(-1, PlayFabErrorCode.Unknown, e.getMessage(), null, null);
+            return exceptionResult;
+        }
+    }
+
+    /**
+     * Updates the title-specific custom data for the user which can only be read by the client
+     * @param request UpdateUserDataRequest
+     * @return UpdateUserDataResult
+     */
+    public PlayFabResult<UpdateUserDataResult> UpdateUserReadOnlyData(final UpdateUserDataRequest request) {
+        try {
+            return PlayFabServerAPI.privateUpdateUserReadOnlyDataAsync(this, request);
+        } catch(Exception e) {
+            PlayFabResult<UpdateUserDataResult> exceptionResult = new PlayFabResult<UpdateUserDataResult>();
+            exceptionResult.Error = PlayFabHTTP.GeneratePfError(-1, PlayFabErrorCode.Unknown, e.getMessage(), null, null);
+            return exceptionResult;
+        }
+    }
+
+    /**
+     * Writes a character-based event into PlayStream.
+     * @param request WriteServerCharacterEventRequest
+     * @return WriteEventResponse
+     */
+    public PlayFabResult<WriteEventResponse> WriteCharacterEvent(final WriteServerCharacterEventRequest request) {
+        try {
+            return PlayFabServerAPI.privateWriteCharacterEventAsync(this, request);
+        } catch(Exception e) {
+            PlayFabResult<WriteEventResponse> exceptionResult = new PlayFabResult<WriteEventResponse>();
+            exceptionResult.Error = PlayFabHTTP.GeneratePfError(-1, PlayFabErrorCode.Unknown, e.getMessage(), null, null);
+            return exceptionResult;
+        }
+    }
+
+    /**
+     * Writes a player-based event into PlayStream.
+     * @param request WriteServerPlayerEventRequest
+     * @return WriteEventResponse
+     */
+    public PlayFabResult<WriteEventResponse> WritePlayerEvent(final WriteServerPlayerEventRequest request) {
+        try {
+            return PlayFabServerAPI.privateWritePlayerEventAsync(this, request);
+        } catch(Exception e) {
+            PlayFabResult<WriteEventResponse> exceptionResult = new PlayFabResult<WriteEventResponse>();
+            exceptionResult.Error = PlayFabHTTP.GeneratePfError(-1, PlayFabErrorCode.Unknown, e.getMessage(), null, null);
+            return exceptionResult;
+        }
+    }
+
+    /**
+     * Writes a title-based event into PlayStream.
+     * @param request WriteTitleEventRequest
+     * @return WriteEventResponse
+     */
+    public PlayFabResult<WriteEventResponse> WriteTitleEvent(final WriteTitleEventRequest request) {
+        try {
+            return PlayFabServerAPI.privateWriteTitleEventAsync(this, request);
+        } catch(Exception e) {
+            PlayFabResult<WriteEventResponse> exceptionResult = new PlayFabResult<WriteEventResponse>();
+            exceptionResult.Error = PlayFabHTTP.GeneratePfError(-1, PlayFabErrorCode.Unknown, e.getMessage(), null, null);
+            return exceptionResult;
+        }
+    }
+
+    /**
+     * @return Non-blocking versions of every call, made with this object's context and started on PlayFabSettings.AsyncExecutor
+     */
+    public Async async() {
+        return async;
+    }
+
+    /**
+     * Non-blocking versions of the PlayFabServerInstanceAPI calls. Each call is already running when its PlayFabFuture is returned.
+     */
+    public class Async {
+        private Async() {
+        }
+
+        /**
+         * Increments the character's balance of the specified virtual currency by the stated amount
+         * @param request AddCharacterVirtualCurrencyRequest
+         * @return Running future that will complete with ModifyCharacterVirtualCurrencyResult
+         */
+        public PlayFabFuture<PlayFabResult<ModifyCharacterVirtualCurrencyResult>> AddCharacterVirtualCurrency(final AddCharacterVirtualCurrencyRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<ModifyCharacterVirtualCurrencyResult>>() {
+                public PlayFabResult<ModifyCharacterVirtualCurrencyResult> call() throws Exception {
+                    return PlayFabServerAPI.privateAddCharacterVirtualCurrencyAsync(PlayFabServerInstanceAPI.this, request);
+                }
+            });
+        }
+
+        /**
+         * Adds the Friend user to the friendlist of the user with PlayFabId. At least one of
+         * FriendPlayFabId,FriendUsername,FriendEmail, or FriendTitleDisplayName should be initialized.
+         * @param request AddFriendRequest
+         * @return Running future that will complete with EmptyResponse
+         */
+        public PlayFabFuture<PlayFabResult<EmptyResponse>> AddFriend(final AddFriendRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<EmptyResponse>>() {
+                public PlayFabResult<EmptyResponse> call() throws Exception {
+                    return PlayFabServerAPI.privateAddFriendAsync(PlayFabServerInstanceAPI.this, request);
+                }
+            });
+        }
+
+        /**
+         * Adds the specified generic service identifier to the player's PlayFab account. This is designed to allow for a PlayFab
+         * ID lookup of any arbitrary service identifier a title wants to add. This identifier should never be used as
+         * authentication credentials, as the intent is that it is easily accessible by other players.
+         * @param request AddGenericIDRequest
+         * @return Running future that will complete with EmptyResult
+         */
+        public PlayFabFuture<PlayFabResult<EmptyResult>> AddGenericID(final AddGenericIDRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<EmptyResult>>() {
+                public PlayFabResult<EmptyResult> call() throws Exception {
+                    return PlayFabServerAPI.privateAddGenericIDAsync(PlayFabServerInstanceAPI.this, request);
+                }
+            });
+        }
+
+        /**
+         * Adds a given tag to a player profile. The tag's namespace is automatically generated based on the source of the tag.
+         * @param request AddPlayerTagRequest
+         * @return Running future that will complete with AddPlayerTagResult
+         */
+        public PlayFabFuture<PlayFabResult<AddPlayerTagResult>> AddPlayerTag(final AddPlayerTagRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<AddPlayerTagResult>>() {
+                public PlayFabResult<AddPlayerTagResult> call() throws Exception {
+                    return PlayFabServerAPI.privateAddPlayerTagAsync(PlayFabServerInstanceAPI.this, request);
+                }
+            });
+        }
+
+        /**
+         * Adds users to the set of those able to update both the shared data, as well as the set of users in the group. Only users
+         * in the group (and the server) can add new members. Shared Groups are designed for sharing data between a very small
+         * number of players, please see our guide:
+         * https://docs.microsoft.com/gaming/playfab/features/social/groups/using-shared-group-data
+         * @param request AddSharedGroupMembersRequest
+         * @return Running future that will complete with AddSharedGroupMembersResult
+         */
+        public PlayFabFuture<PlayFabResult<AddSharedGroupMembersResult>> AddSharedGroupMembers(final AddSharedGroupMembersRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<AddSharedGroupMembersResult>>() {
+                public PlayFabResult<AddSharedGroupMembersResult> call() throws Exception {
+                    return PlayFabServerAPI.privateAddSharedGroupMembersAsync(PlayFabServerInstanceAPI.this, request);
+                }
+            });
+        }
+
+        /**
+         * Increments the user's balance of the specified virtual currency by the stated amount
+         * @param request AddUserVirtualCurrencyRequest
+         * @return Running future that will complete with ModifyUserVirtualCurrencyResult
+         */
+        public PlayFabFuture<PlayFabResult<ModifyUserVirtualCurrencyResult>> AddUserVirtualCurrency(final AddUserVirtualCurrencyRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<ModifyUserVirtualCurrencyResult>>() {
+                public PlayFabResult<ModifyUserVirtualCurrencyResult> call() throws Exception {
+                    return PlayFabServerAPI.privateAddUserVirtualCurrencyAsync(PlayFabServerInstanceAPI.this, request);
+                }
+            });
+        }
+
+        /**
+         * Validated a client's session ticket, and if successful, returns details for that user
+         * @param request AuthenticateSessionTicketRequest
+         * @return Running future that will complete with AuthenticateSessionTicketResult
+         */
+        public PlayFabFuture<PlayFabResult<AuthenticateSessionTicketResult>> AuthenticateSessionTicket(final AuthenticateSessionTicketRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<AuthenticateSessionTicketResult>>() {
+                public PlayFabResult<AuthenticateSessionTicketResult> call() throws Exception {
+                    return PlayFabServerAPI.privateAuthenticateSessionTicketAsync(PlayFabServerInstanceAPI.this, request);
+                }
+            });
+        }
+
+        /**
+         * Awards the specified users the specified Steam achievements
+         * @param request AwardSteamAchievementRequest
+         * @return Running future that will complete with AwardSteamAchievementResult
+         */
+        public PlayFabFuture<PlayFabResult<AwardSteamAchievementResult>> AwardSteamAchievement(final AwardSteamAchievementRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<AwardSteamAchievementResult>>() {
+                public PlayFabResult<AwardSteamAchievementResult> call() throws Exception {
+                    return PlayFabServerAPI.privateAwardSteamAchievementAsync(PlayFabServerInstanceAPI.this, request);
+                }
+            });
+        }
+
+        /**
+         * Bans users by PlayFab ID with optional IP address, or MAC address for the provided game.
+         * @param request BanUsersRequest
+         * @return Running future that will complete with BanUsersResult
+         */
+        public PlayFabFuture<PlayFabResult<BanUsersResult>> BanUsers(final BanUsersRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<BanUsersResult>>() {
+                public PlayFabResult<BanUsersResult> call() throws Exception {
+                    return PlayFabServerAPI.privateBanUsersAsync(PlayFabServerInstanceAPI.this, request);
+                }
+            });
+        }
+
+        /**
+         * Consume uses of a consumable item. When all uses are consumed, it will be removed from the player's inventory.
+         * @param request ConsumeItemRequest
+         * @return Running future that will complete with ConsumeItemResult
+         */
+        public PlayFabFuture<PlayFabResult<ConsumeItemResult>> ConsumeItem(final ConsumeItemRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<ConsumeItemResult>>() {
+                public PlayFabResult<ConsumeItemResult> call() throws Exception {
+                    return PlayFabServerAPI.privateConsumeItemAsync(PlayFabServerInstanceAPI.this, request);
+                }
+            });
+        }
+
+        /**
+         * Requests the creation of a shared group object, containing key/value pairs which may be updated by all members of the
+         * group. When created by a server, the group will initially have no members. Shared Groups are designed for sharing data
+         * between a very small number of players, please see our guide:
+         * https://docs.microsoft.com/gaming/playfab/features/social/groups/using-shared-group-data
+         * @param request CreateSharedGroupRequest
+         * @return Running future that will complete with CreateSharedGroupResult
+         */
+        public PlayFabFuture<PlayFabResult<CreateSharedGroupResult>> CreateSharedGroup(final CreateSharedGroupRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<CreateSharedGroupResult>>() {
+                public PlayFabResult<CreateSharedGroupResult> call() throws Exception {
+                    return PlayFabServerAPI.privateCreateSharedGroupAsync(PlayFabServerInstanceAPI.this, request);
+                }
+            });
+        }
+
+        /**
+         * Deletes the specific character ID from the specified user.
+         * @param request DeleteCharacterFromUserRequest
+         * @return Running future that will complete with DeleteCharacterFromUserResult
+         */
+        public PlayFabFuture<PlayFabResult<DeleteCharacterFromUserResult>> DeleteCharacterFromUser(final DeleteCharacterFromUserRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<DeleteCharacterFromUserResult>>() {
+                public PlayFabResult<DeleteCharacterFromUserResult> call() throws Exception {
+                    return PlayFabServerAPI.privateDeleteCharacterFromUserAsync(PlayFabServerInstanceAPI.this, request);
+                }
+            });
+        }
+
+        /**
+         * Removes a user's player account from a title and deletes all associated data
+         * @param request DeletePlayerRequest
+         * @return Running future that will complete with DeletePlayerResult
+         */
+        public PlayFabFuture<PlayFabResult<DeletePlayerResult>> DeletePlayer(final DeletePlayerRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<DeletePlayerResult>>() {
+                public PlayFabResult<DeletePlayerResult> call() throws Exception {
+                    return PlayFabServerAPI.privateDeletePlayerAsync(PlayFabServerInstanceAPI.this, request);
+                }
+            });
+        }
+
+        /**
+         * Deletes push notification template for title
+         * @param request DeletePushNotificationTemplateRequest
+         * @return Running future that will complete with DeletePushNotificationTemplateResult
+         */
+        public PlayFabFuture<PlayFabResult<DeletePushNotificationTemplateResult>> DeletePushNotificationTemplate(final DeletePushNotificationTemplateRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<DeletePushNotificationTemplateResult>>() {
+                public PlayFabResult<DeletePushNotificationTemplateResult> call() throws Exception {
+                    return PlayFabServerAPI.privateDeletePushNotificationTemplateAsync(PlayFabServerInstanceAPI.this, request);
+                }
+            });
+        }
+
+        /**
+         * Deletes a shared group, freeing up the shared group ID to be reused for a new group. Shared Groups are designed for
+         * sharing data between a very small number of players, please see our guide:
+         * https://docs.microsoft.com/gaming/playfab/features/social/groups/using-shared-group-data
+         * @param request DeleteSharedGroupRequest
+         * @return Running future that will complete with EmptyResponse
+         */
+        public PlayFabFuture<PlayFabResult<EmptyResponse>> DeleteSharedGroup(final DeleteSharedGroupRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<EmptyResponse>>() {
+                public PlayFabResult<EmptyResponse> call() throws Exception {
+                    return PlayFabServerAPI.privateDeleteSharedGroupAsync(PlayFabServerInstanceAPI.this, request);
+                }
+            });
+        }
+
+        /**
+         * Inform the matchmaker that a Game Server Instance is removed.
+         * @param request DeregisterGameRequest
+         * @return Running future that will complete with DeregisterGameResponse
+         */
+        public PlayFabFuture<PlayFabResult<DeregisterGameResponse>> DeregisterGame(final DeregisterGameRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<DeregisterGameResponse>>() {
+                public PlayFabResult<DeregisterGameResponse> call() throws Exception {
+                    return PlayFabServerAPI.privateDeregisterGameAsync(PlayFabServerInstanceAPI.this, request);
+                }
+            });
+        }
+
+        /**
+         * Returns the result of an evaluation of a Random Result Table - the ItemId from the game Catalog which would have been
+         * added to the player inventory, if the Random Result Table were added via a Bundle or a call to UnlockContainer.
+         * @param request EvaluateRandomResultTableRequest
+         * @return Running future that will complete with EvaluateRandomResultTableResult
+         */
+        public PlayFabFuture<PlayFabResult<EvaluateRandomResultTableResult>> EvaluateRandomResultTable(final EvaluateRandomResultTableRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<EvaluateRandomResultTableResult>>() {
+                public PlayFabResult<EvaluateRandomResultTableResult> call() throws Exception {
+                    return PlayFabServerAPI.privateEvaluateRandomResultTableAsync(PlayFabServerInstanceAPI.this, request);
+                }
+            });
+        }
+
+        /**
+         * Executes a CloudScript function, with the 'currentPlayerId' variable set to the specified PlayFabId parameter value.
+         * @param request ExecuteCloudScriptServerRequest
+         * @return Running future that will complete with ExecuteCloudScriptResult
+         */
+        public PlayFabFuture<PlayFabResult<ExecuteCloudScriptResult>> ExecuteCloudScript(final ExecuteCloudScriptServerRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<ExecuteCloudScriptResult>>() {
+                public PlayFabResult<ExecuteCloudScriptResult> call() throws Exception {
+                    return PlayFabServerAPI.privateExecuteCloudScriptAsync(PlayFabServerInstanceAPI.this, request);
+                }
+            });
+        }
+
+        /**
+         * Retrieves an array of player segment definitions. Results from this can be used in subsequent API calls such as
+         * GetPlayersInSegment which requires a Segment ID. While segment names can change the ID for that segment will not change.
+         * @param request GetAllSegmentsRequest
+         * @return Running future that will complete with GetAllSegmentsResult
+         */
+        public PlayFabFuture<PlayFabResult<GetAllSegmentsResult>> GetAllSegments(final GetAllSegmentsRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<GetAllSegmentsResult>>() {
+                public PlayFabResult<GetAllSegmentsResult> call() throws Exception {
+                    return PlayFabServerAPI.privateGetAllSegmentsAsync(PlayFabServerInstanceAPI.this, request);
+                }
+            });
+        }
+
+        /**
+         * Lists all of the characters that belong to a specific user. CharacterIds are not globally unique; characterId must be
+         * evaluated with the parent PlayFabId to guarantee uniqueness.
+         * @param request ListUsersCharactersRequest
+         * @return Running future that will complete with ListUsersCharactersResult
+         */
+        public PlayFabFuture<PlayFabResult<ListUsersCharactersResult>> GetAllUsersCharacters(final ListUsersCharactersRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<ListUsersCharactersResult>>() {
+                public PlayFabResult<ListUsersCharactersResult> call() throws Exception {
+                    return PlayFabServerAPI.privateGetAllUsersCharactersAsync(PlayFabServerInstanceAPI.this, request);
+                }
+            });
+        }
+
+        /**
+         * Retrieves the specified version of the title's catalog of virtual goods, including all defined properties
+         * @param request GetCatalogItemsRequest
+         * @return Running future that will complete with GetCatalogItemsResult
+         */
+        public PlayFabFuture<PlayFabResult<GetCatalogItemsResult>> GetCatalogItems(final GetCatalogItemsRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<GetCatalogItemsResult>>() {
+                public PlayFabResult<GetCatalogItemsResult> call() throws Exception {
+                    return PlayFabServerAPI.privateGetCatalogItemsAsync(PlayFabServerInstanceAPI.this, request);
+                }
+            });
+        }
+
+        /**
+         * Retrieves the title-specific custom data for the user which is readable and writable by the client
+         * @param request GetCharacterDataRequest
+         * @return Running future that will complete with GetCharacterDataResult
+         */
+        public PlayFabFuture<PlayFabResult<GetCharacterDataResult>> GetCharacterData(final GetCharacterDataRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<GetCharacterDataResult>>() {
+                public PlayFabResult<GetCharacterDataResult> call() throws Exception {
+                    return PlayFabServerAPI.privateGetCharacterDataAsync(PlayFabServerInstanceAPI.this, request);
+                }
+            });
+        }
+
+        /**
+         * Retrieves the title-specific custom data for the user's character which cannot be accessed by the client
+         * @param request GetCharacterDataRequest
+         * @return Running future that will complete with GetCharacterDataResult
+         */
+        public PlayFabFuture<PlayFabResult<GetCharacterDataResult>> GetCharacterInternalData(final GetCharacterDataRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<GetCharacterDataResult>>() {
+                public PlayFabResult<GetCharacterDataResult> call() throws Exception {
+                    return PlayFabServerAPI.privateGetCharacterInternalDataAsync(PlayFabServerInstanceAPI.this, request);
+                }
+            });
+        }
+
+        /**
+         * Retrieves the specified character's current inventory of virtual goods
+         * @param request GetCharacterInventoryRequest
+         * @return Running future that will complete with GetCharacterInventoryResult
+         */
+        public PlayFabFuture<PlayFabResult<GetCharacterInventoryResult>> GetCharacterInventory(final GetCharacterInventoryRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<GetCharacterInventoryResult>>() {
+                public PlayFabResult<GetCharacterInventoryResult> call() throws Exception {
+                    return PlayFabServerAPI.privateGetCharacterInventoryAsync(PlayFabServerInstanceAPI.this, request);
+                }
+            });
+        }
+
+        /**
+         * Retrieves a list of ranked characters for the given statistic, starting from the indicated point in the leaderboard
+         * @param request GetCharacterLeaderboardRequest
+         * @return Running future that will complete with GetCharacterLeaderboardResult
+         */
+        public PlayFabFuture<PlayFabResult<GetCharacterLeaderboardResult>> GetCharacterLeaderboard(final GetCharacterLeaderboardRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<GetCharacterLeaderboardResult>>() {
+                public PlayFabResult<GetCharacterLeaderboardResult> call() throws Exception {
+                    return PlayFabServerAPI.privateGetCharacterLeaderboardAsync(PlayFabServerInstanceAPI.this, request);
+                }
+            });
+        }
+
+        /**
+         * Retrieves the title-specific custom data for the user's character which can only be read by the client
+         * @param request GetCharacterDataRequest
+         * @return Running future that will complete with GetCharacterDataResult
+         */
+        public PlayFabFuture<PlayFabResult<GetCharacterDataResult>> GetCharacterReadOnlyData(final GetCharacterDataRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<GetCharacterDataResult>>() {
+                public PlayFabResult<GetCharacterDataResult> call() throws Exception {
+                    return PlayFabServerAPI.privateGetCharacterReadOnlyDataAsync(PlayFabServerInstanceAPI.this, request);
+                }
+            });
+        }
+
+        /**
+         * Retrieves the details of all title-specific statistics for the specific character
+         * @param request GetCharacterStatisticsRequest
+         * @return Running future that will complete with GetCharacterStatisticsResult
+         */
+        public PlayFabFuture<PlayFabResult<GetCharacterStatisticsResult>> GetCharacterStatistics(final GetCharacterStatisticsRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<GetCharacterStatisticsResult>>() {
+                public PlayFabResult<GetCharacterStatisticsResult> call() throws Exception {
+                    return PlayFabServerAPI.privateGetCharacterStatisticsAsync(PlayFabServerInstanceAPI.this, request);
+                }
+            });
+        }
+
+        /**
+         * This API retrieves a pre-signed URL for accessing a content file for the title. A subsequent HTTP GET to the returned
+         * URL will attempt to download the content. A HEAD query to the returned URL will attempt to retrieve the metadata of the
+         * content. Note that a successful result does not guarantee the existence of this content - if it has not been uploaded,
+         * the query to retrieve the data will fail. See this post for more information:
+         * https://community.playfab.com/hc/community/posts/205469488-How-to-upload-files-to-PlayFab-s-Content-Service. Also,
+         * please be aware that the Content service is specifically PlayFab's CDN offering, for which standard CDN rates apply.
+         * @param request GetContentDownloadUrlRequest
+         * @return Running future that will complete with GetContentDownloadUrlResult
+         */
+        public PlayFabFuture<PlayFabResult<GetContentDownloadUrlResult>> GetContentDownloadUrl(final GetContentDownloadUrlRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<GetContentDownloadUrlResult>>() {
+                public PlayFabResult<GetContentDownloadUrlResult> call() throws Exception {
+                    return PlayFabServerAPI.privateGetContentDownloadUrlAsync(PlayFabServerInstanceAPI.this, request);
+                }
+            });
+        }
+
+        /**
+         * Retrieves a list of ranked friends of the given player for the given statistic, starting from the indicated point in the
+         * leaderboard
+         * @param request GetFriendLeaderboardRequest
+         * @return Running future that will complete with GetLeaderboardResult
+         */
+        public PlayFabFuture<PlayFabResult<GetLeaderboardResult>> GetFriendLeaderboard(final GetFriendLeaderboardRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<GetLeaderboardResult>>() {
+                public PlayFabResult<GetLeaderboardResult> call() throws Exception {
+                    return PlayFabServerAPI.privateGetFriendLeaderboardAsync(PlayFabServerInstanceAPI.this, request);
+                }
+            });
+        }
+
+        /**
+         * Retrieves the current friends for the user with PlayFabId, constrained to users who have PlayFab accounts. Friends from
+         * linked accounts (Facebook, Steam) are also included. You may optionally exclude some linked services' friends.
+         * @param request GetFriendsListRequest
+         * @return Running future that will complete with GetFriendsListResult
+         */
+        public PlayFabFuture<PlayFabResult<GetFriendsListResult>> GetFriendsList(final GetFriendsListRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<GetFriendsListResult>>() {
+                public PlayFabResult<GetFriendsListResult> call() throws Exception {
+                    return PlayFabServerAPI.privateGetFriendsListAsync(PlayFabServerInstanceAPI.this, request);
+                }
+            });
+        }
+
+        /**
+         * Retrieves a list of ranked users for the given statistic, starting from the indicated point in the leaderboard
+         * @param request GetLeaderboardRequest
+         * @return Running future that will complete with GetLeaderboardResult
+         */
+        public PlayFabFuture<PlayFabResult<GetLeaderboardResult>> GetLeaderboard(final GetLeaderboardRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<GetLeaderboardResult>>() {
+                public PlayFabResult<GetLeaderboardResult> call() throws Exception {
+                    return PlayFabServerAPI.privateGetLeaderboardAsync(PlayFabServerInstanceAPI.this, request);
+                }
+            });
+        }
+
+        /**
+         * Retrieves a list of ranked characters for the given statistic, centered on the requested user
+         * @param request GetLeaderboardAroundCharacterRequest
+         * @return Running future that will complete with GetLeaderboardAroundCharacterResult
+         */
+        public PlayFabFuture<PlayFabResult<GetLeaderboardAroundCharacterResult>> GetLeaderboardAroundCharacter(final GetLeaderboardAroundCharacterRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<GetLeaderboardAroundCharacterResult>>() {
+                public PlayFabResult<GetLeaderboardAroundCharacterResult> call() throws Exception {
+                    return PlayFabServerAPI.privateGetLeaderboardAroundCharacterAsync(PlayFabServerInstanceAPI.this, request);
+                }
+            });
+        }
+
+        /**
+         * Retrieves a list of ranked users for the given statistic, centered on the currently signed-in user
+         * @param request GetLeaderboardAroundUserRequest
+         * @return Running future that will complete with GetLeaderboardAroundUserResult
+         */
+        public PlayFabFuture<PlayFabResult<GetLeaderboardAroundUserResult>> GetLeaderboardAroundUser(final GetLeaderboardAroundUserRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<GetLeaderboardAroundUserResult>>() {
+                public PlayFabResult<GetLeaderboardAroundUserResult> call() throws Exception {
+                    return PlayFabServerAPI.privateGetLeaderboardAroundUserAsync(PlayFabServerInstanceAPI.this, request);
+                }
+            });
+        }
+
+        /**
+         * Retrieves a list of all of the user's characters for the given statistic.
+         * @param request GetLeaderboardForUsersCharactersRequest
+         * @return Running future that will complete with GetLeaderboardForUsersCharactersResult
+         */
+        public PlayFabFuture<PlayFabResult<GetLeaderboardForUsersCharactersResult>> GetLeaderboardForUserCharacters(final GetLeaderboardForUsersCharactersRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<GetLeaderboardForUsersCharactersResult>>() {
+                public PlayFabResult<GetLeaderboardForUsersCharactersResult> call() throws Exception {
+                    return PlayFabServerAPI.privateGetLeaderboardForUserCharactersAsync(PlayFabServerInstanceAPI.this, request);
+                }
+            });
+        }
+
+        /**
+         * Returns whatever info is requested in the response for the user. Note that PII (like email address, facebook id) may be
+         * returned. All parameters default to false.
+         * @param request GetPlayerCombinedInfoRequest
+         * @return Running future that will complete with GetPlayerCombinedInfoResult
+         */
+        public PlayFabFuture<PlayFabResult<GetPlayerCombinedInfoResult>> GetPlayerCombinedInfo(final GetPlayerCombinedInfoRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<GetPlayerCombinedInfoResult>>() {
+                public PlayFabResult<GetPlayerCombinedInfoResult> call() throws Exception {
+                    return PlayFabServerAPI.privateGetPlayerCombinedInfoAsync(PlayFabServerInstanceAPI.this, request);
+                }
+            });
+        }
+
+        /**
+         * Retrieves the player's profile
+         * @param request GetPlayerProfileRequest
+         * @return Running future that will complete with GetPlayerProfileResult
+         */
+        public PlayFabFuture<PlayFabResult<GetPlayerProfileResult>> GetPlayerProfile(final GetPlayerProfileRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<GetPlayerProfileResult>>() {
+                public PlayFabResult<GetPlayerProfileResult> call() throws Exception {
+                    return PlayFabServerAPI.privateGetPlayerProfileAsync(PlayFabServerInstanceAPI.this, request);
+                }
+            });
+        }
+
+        /**
+         * List all segments that a player currently belongs to at this moment in time.
+         * @param request GetPlayersSegmentsRequest
+         * @return Running future that will complete with GetPlayerSegmentsResult
+         */
+        public PlayFabFuture<PlayFabResult<GetPlayerSegmentsResult>> GetPlayerSegments(final GetPlayersSegmentsRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<GetPlayerSegmentsResult>>() {
+                public PlayFabResult<GetPlayerSegmentsResult> call() throws Exception {
+                    return PlayFabServerAPI.privateGetPlayerSegmentsAsync(PlayFabServerInstanceAPI.this, request);
+                }
+            });
+        }
+
+        /**
+         * Allows for paging through all players in a given segment. This API creates a snapshot of all player profiles that match
+         * the segment definition at the time of its creation and lives through the Total Seconds to Live, refreshing its life span
+         * on each subsequent use of the Continuation Token. Profiles that change during the course of paging will not be reflected
+         * in the results. AB Test segments are currently not supported by this operation. NOTE: This API is limited to being
+         * called 30 times in one minute. You will be returned an error if you exceed this threshold.
+         * @param request GetPlayersInSegmentRequest
+         * @return Running future that will complete with GetPlayersInSegmentResult
+         */
+        public PlayFabFuture<PlayFabResult<GetPlayersInSegmentResult>> GetPlayersInSegment(final GetPlayersInSegmentRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<GetPlayersInSegmentResult>>() {
+                public PlayFabResult<GetPlayersInSegmentResult> call() throws Exception {
+                    return PlayFabServerAPI.privateGetPlayersInSegmentAsync(PlayFabServerInstanceAPI.this, request);
+                }
+            });
+        }
+
+        /**
+         * Retrieves the current version and values for the indicated statistics, for the local player.
+         * @param request GetPlayerStatisticsRequest
+         * @return Running future that will complete with GetPlayerStatisticsResult
+         */
+        public PlayFabFuture<PlayFabResult<GetPlayerStatisticsResult>> GetPlayerStatistics(final GetPlayerStatisticsRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<GetPlayerStatisticsResult>>() {
+                public PlayFabResult<GetPlayerStatisticsResult> call() throws Exception {
+                    return PlayFabServerAPI.privateGetPlayerStatisticsAsync(PlayFabServerInstanceAPI.this, request);
+                }
+            });
+        }
+
+        /**
+         * Retrieves the information on the available versions of the specified statistic.
+         * @param request GetPlayerStatisticVersionsRequest
+         * @return Running future that will complete with GetPlayerStatisticVersionsResult
+         */
+        public PlayFabFuture<PlayFabResult<GetPlayerStatisticVersionsResult>> GetPlayerStatisticVersions(final GetPlayerStatisticVersionsRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<GetPlayerStatisticVersionsResult>>() {
+                public PlayFabResult<GetPlayerStatisticVersionsResult> call() throws Exception {
+                    return PlayFabServerAPI.privateGetPlayerStatisticVersionsAsync(PlayFabServerInstanceAPI.this, request);
+                }
+            });
+        }
+
+        /**
+         * Get all tags with a given Namespace (optional) from a player profile.
+         * @param request GetPlayerTagsRequest
+         * @return Running future that will complete with GetPlayerTagsResult
+         */
+        public PlayFabFuture<PlayFabResult<GetPlayerTagsResult>> GetPlayerTags(final GetPlayerTagsRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<GetPlayerTagsResult>>() {
+                public PlayFabResult<GetPlayerTagsResult> call() throws Exception {
+                    return PlayFabServerAPI.privateGetPlayerTagsAsync(PlayFabServerInstanceAPI.this, request);
+                }
+            });
+        }
+
+        /**
+         * Retrieves the unique PlayFab identifiers for the given set of Facebook identifiers.
+         * @param request GetPlayFabIDsFromFacebookIDsRequest
+         * @return Running future that will complete with GetPlayFabIDsFromFacebookIDsResult
+         */
+        public PlayFabFuture<PlayFabResult<GetPlayFabIDsFromFacebookIDsResult>> GetPlayFabIDsFromFacebookIDs(final GetPlayFabIDsFromFacebookIDsRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<GetPlayFabIDsFromFacebookIDsResult>>() {
+                public PlayFabResult<GetPlayFabIDsFromFacebookIDsResult> call() throws Exception {
+                    return PlayFabServerAPI.privateGetPlayFabIDsFromFacebookIDsAsync(PlayFabServerInstanceAPI.this, request);
+                }
+            });
+        }
+
+        /**
+         * Retrieves the unique PlayFab identifiers for the given set of Facebook Instant Games identifiers.
+         * @param request GetPlayFabIDsFromFacebookInstantGamesIdsRequest
+         * @return Running future that will complete with GetPlayFabIDsFromFacebookInstantGamesIdsResult
+         */
+        public PlayFabFuture<PlayFabResult<GetPlayFabIDsFromFacebookInstantGamesIdsResult>> GetPlayFabIDsFromFacebookInstantGamesIds(final GetPlayFabIDsFromFacebookInstantGamesIdsRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<GetPlayFabIDsFromFacebookInstantGamesIdsResult>>() {
+                public PlayFabResult<GetPlayFabIDsFromFacebookInstantGamesIdsResult> call() throws Exception {
+                    return PlayFabServerAPI.privateGetPlayFabIDsFromFacebookInstantGamesIdsAsync(PlayFabServerInstanceAPI.this, request);
+                }
+            });
+        }
+
+        /**
+         * Retrieves the unique PlayFab identifiers for the given set of generic service identifiers. A generic identifier is the
+         * service name plus the service-specific ID for the player, as specified by the title when the generic identifier was
+         * added to the player account.
+         * @param request GetPlayFabIDsFromGenericIDsRequest
+         * @return Running future that will complete with GetPlayFabIDsFromGenericIDsResult
+         */
+        public PlayFabFuture<PlayFabResult<GetPlayFabIDsFromGenericIDsResult>> GetPlayFabIDsFromGenericIDs(final GetPlayFabIDsFromGenericIDsRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<GetPlayFabIDsFromGenericIDsResult>>() {
+                public PlayFabResult<GetPlayFabIDsFromGenericIDsResult> call() throws Exception {
+                    return PlayFabServerAPI.privateGetPlayFabIDsFromGenericIDsAsync(PlayFabServerInstanceAPI.this, request);
+                }
+            });
+        }
+
+        /**
+         * Retrieves the unique PlayFab identifiers for the given set of Nintendo Switch Device identifiers.
+         * @param request GetPlayFabIDsFromNintendoSwitchDeviceIdsRequest
+         * @return Running future that will complete with GetPlayFabIDsFromNintendoSwitchDeviceIdsResult
+         */
+        public PlayFabFuture<PlayFabResult<GetPlayFabIDsFromNintendoSwitchDeviceIdsResult>> GetPlayFabIDsFromNintendoSwitchDeviceIds(final GetPlayFabIDsFromNintendoSwitchDeviceIdsRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<GetPlayFabIDsFromNintendoSwitchDeviceIdsResult>>() {
+                public PlayFabResult<GetPlayFabIDsFromNintendoSwitchDeviceIdsResult> call() throws Exception {
+                    return PlayFabServerAPI.privateGetPlayFabIDsFromNintendoSwitchDeviceIdsAsync(PlayFabServerInstanceAPI.this, request);
+                }
+            });
+        }
+
+        /**
+         * Retrieves the unique PlayFab identifiers for the given set of PlayStation Network identifiers.
+         * @param request GetPlayFabIDsFromPSNAccountIDsRequest
+         * @return Running future that will complete with GetPlayFabIDsFromPSNAccountIDsResult
+         */
+        public PlayFabFuture<PlayFabResult<GetPlayFabIDsFromPSNAccountIDsResult>> GetPlayFabIDsFromPSNAccountIDs(final GetPlayFabIDsFromPSNAccountIDsRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<GetPlayFabIDsFromPSNAccountIDsResult>>() {
+                public PlayFabResult<GetPlayFabIDsFromPSNAccountIDsResult> call() throws Exception {
+                    return PlayFabServerAPI.privateGetPlayFabIDsFromPSNAccountIDsAsync(PlayFabServerInstanceAPI.this, request);
+                }
+            });
+        }
+
+        /**
+         * Retrieves the unique PlayFab identifiers for the given set of Steam identifiers. The Steam identifiers are the profile
+         * IDs for the user accounts, available as SteamId in the Steamworks Community API calls.
+         * @param request GetPlayFabIDsFromSteamIDsRequest
+         * @return Running future that will complete with GetPlayFabIDsFromSteamIDsResult
+         */
+        public PlayFabFuture<PlayFabResult<GetPlayFabIDsFromSteamIDsResult>> GetPlayFabIDsFromSteamIDs(final GetPlayFabIDsFromSteamIDsRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<GetPlayFabIDsFromSteamIDsResult>>() {
+                public PlayFabResult<GetPlayFabIDsFromSteamIDsResult> call() throws Exception {
+                    return PlayFabServerAPI.privateGetPlayFabIDsFromSteamIDsAsync(PlayFabServerInstanceAPI.this, request);
+                }
+            });
+        }
+
+        /**
+         * Retrieves the unique PlayFab identifiers for the given set of XboxLive identifiers.
+         * @param request GetPlayFabIDsFromXboxLiveIDsRequest
+         * @return Running future that will complete with GetPlayFabIDsFromXboxLiveIDsResult
+         */
+        public PlayFabFuture<PlayFabResult<GetPlayFabIDsFromXboxLiveIDsResult>> GetPlayFabIDsFromXboxLiveIDs(final GetPlayFabIDsFromXboxLiveIDsRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<GetPlayFabIDsFromXboxLiveIDsResult>>() {
+                public PlayFabResult<GetPlayFabIDsFromXboxLiveIDsResult> call() throws Exception {
+                    return PlayFabServerAPI.privateGetPlayFabIDsFromXboxLiveIDsAsync(PlayFabServerInstanceAPI.this, request);
+                }
+            });
+        }
+
+        /**
+         * Retrieves the key-value store of custom publisher settings
+         * @param request GetPublisherDataRequest
+         * @return Running future that will complete with GetPublisherDataResult
+         */
+        public PlayFabFuture<PlayFabResult<GetPublisherDataResult>> GetPublisherData(final GetPublisherDataRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<GetPublisherDataResult>>() {
+                public PlayFabResult<GetPublisherDataResult> call() throws Exception {
+                    return PlayFabServerAPI.privateGetPublisherDataAsync(PlayFabServerInstanceAPI.this, request);
+                }
+            });
+        }
+
+        /**
+         * Retrieves the configuration information for the specified random results tables for the title, including all ItemId
+         * values and weights
+         * @param request GetRandomResultTablesRequest
+         * @return Running future that will complete with GetRandomResultTablesResult
+         */
+        public PlayFabFuture<PlayFabResult<GetRandomResultTablesResult>> GetRandomResultTables(final GetRandomResultTablesRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<GetRandomResultTablesResult>>() {
+                public PlayFabResult<GetRandomResultTablesResult> call() throws Exception {
+                    return PlayFabServerAPI.privateGetRandomResultTablesAsync(PlayFabServerInstanceAPI.this, request);
+                }
+            });
+        }
+
+        /**
+         * Retrieves the associated PlayFab account identifiers for the given set of server custom identifiers.
+         * @param request GetServerCustomIDsFromPlayFabIDsRequest
+         * @return Running future that will complete with GetServerCustomIDsFromPlayFabIDsResult
+         */
+        public PlayFabFuture<PlayFabResult<GetServerCustomIDsFromPlayFabIDsResult>> GetServerCustomIDsFromPlayFabIDs(final GetServerCustomIDsFromPlayFabIDsRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<GetServerCustomIDsFromPlayFabIDsResult>>() {
+                public PlayFabResult<GetServerCustomIDsFromPlayFabIDsResult> call() throws Exception {
+                    return PlayFabServerAPI.privateGetServerCustomIDsFromPlayFabIDsAsync(PlayFabServerInstanceAPI.this, request);
+                }
+            });
+        }
+
+        /**
+         * Retrieves data stored in a shared group object, as well as the list of members in the group. The server can access all
+         * public and private group data. Shared Groups are designed for sharing data between a very small number of players,
+         * please see our guide: https://docs.microsoft.com/gaming/playfab/features/social/groups/using-shared-group-data
+         * @param request GetSharedGroupDataRequest
+         * @return Running future that will complete with GetSharedGroupDataResult
+         */
+        public PlayFabFuture<PlayFabResult<GetSharedGroupDataResult>> GetSharedGroupData(final GetSharedGroupDataRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<GetSharedGroupDataResult>>() {
+                public PlayFabResult<GetSharedGroupDataResult> call() throws Exception {
+                    return PlayFabServerAPI.privateGetSharedGroupDataAsync(PlayFabServerInstanceAPI.this, request);
+                }
+            });
+        }
+
+        /**
+         * Retrieves the set of items defined for the specified store, including all prices defined, for the specified player
+         * @param request GetStoreItemsServerRequest
+         * @return Running future that will complete with GetStoreItemsResult
+         */
+        public PlayFabFuture<PlayFabResult<GetStoreItemsResult>> GetStoreItems(final GetStoreItemsServerRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<GetStoreItemsResult>>() {
+                public PlayFabResult<GetStoreItemsResult> call() throws Exception {
+                    return PlayFabServerAPI.privateGetStoreItemsAsync(PlayFabServerInstanceAPI.this, request);
+                }
+            });
+        }
+
+        /**
+         * Retrieves the current server time
+         * @param request GetTimeRequest
+         * @return Running future that will complete with GetTimeResult
+         */
+        public PlayFabFuture<PlayFabResult<GetTimeResult>> GetTime(final GetTimeRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<GetTimeResult>>() {
+                public PlayFabResult<GetTimeResult> call() throws Exception {
+                    return PlayFabServerAPI.privateGetTimeAsync(PlayFabServerInstanceAPI.this, request);
+                }
+            });
+        }
+
+        /**
+         * Retrieves the key-value store of custom title settings
+         * @param request GetTitleDataRequest
+         * @return Running future that will complete with GetTitleDataResult
+         */
+        public PlayFabFuture<PlayFabResult<GetTitleDataResult>> GetTitleData(final GetTitleDataRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<GetTitleDataResult>>() {
+                public PlayFabResult<GetTitleDataResult> call() throws Exception {
+                    return PlayFabServerAPI.privateGetTitleDataAsync(PlayFabServerInstanceAPI.this, request);
+                }
+            });
+        }
+
+        /**
+         * Retrieves the key-value store of custom internal title settings
+         * @param request GetTitleDataRequest
+         * @return Running future that will complete with GetTitleDataResult
+         */
+        public PlayFabFuture<PlayFabResult<GetTitleDataResult>> GetTitleInternalData(final GetTitleDataRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<GetTitleDataResult>>() {
+                public PlayFabResult<GetTitleDataResult> call() throws Exception {
+                    return PlayFabServerAPI.privateGetTitleInternalDataAsync(PlayFabServerInstanceAPI.this, request);
+                }
+            });
+        }
+
+        /**
+         * Retrieves the title news feed, as configured in the developer portal
+         * @param request GetTitleNewsRequest
+         * @return Running future that will complete with GetTitleNewsResult
+         */
+        public PlayFabFuture<PlayFabResult<GetTitleNewsResult>> GetTitleNews(final GetTitleNewsRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<GetTitleNewsResult>>() {
+                public PlayFabResult<GetTitleNewsResult> call() throws Exception {
+                    return PlayFabServerAPI.privateGetTitleNewsAsync(PlayFabServerInstanceAPI.this, request);
+                }
+            });
+        }
+
+        /**
+         * Retrieves the relevant details for a specified user
+         * @param request GetUserAccountInfoRequest
+         * @return Running future that will complete with GetUserAccountInfoResult
+         */
+        public PlayFabFuture<PlayFabResult<GetUserAccountInfoResult>> GetUserAccountInfo(final GetUserAccountInfoRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<GetUserAccountInfoResult>>() {
+                public PlayFabResult<GetUserAccountInfoResult> call() throws Exception {
+                    return PlayFabServerAPI.privateGetUserAccountInfoAsync(PlayFabServerInstanceAPI.this, request);
+                }
+            });
+        }
+
+        /**
+         * Gets all bans for a user.
+         * @param request GetUserBansRequest
+         * @return Running future that will complete with GetUserBansResult
+         */
+        public PlayFabFuture<PlayFabResult<GetUserBansResult>> GetUserBans(final GetUserBansRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<GetUserBansResult>>() {
+                public PlayFabResult<GetUserBansResult> call() throws Exception {
+                    return PlayFabServerAPI.privateGetUserBansAsync(PlayFabServerInstanceAPI.this, request);
+                }
+            });
+        }
+
+        /**
+         * Retrieves the title-specific custom data for the user which is readable and writable by the client
+         * @param request GetUserDataRequest
+         * @return Running future that will complete with GetUserDataResult
+         */
+        public PlayFabFuture<PlayFabResult<GetUserDataResult>> GetUserData(final GetUserDataRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<GetUserDataResult>>() {
+                public PlayFabResult<GetUserDataResult> call() throws Exception {
+                    return PlayFabServerAPI.privateGetUserDataAsync(PlayFabServerInstanceAPI.this, request);
+                }
+            });
+        }
+
+        /**
+         * Retrieves the title-specific custom data for the user which cannot be accessed by the client
+         * @param request GetUserDataRequest
+         * @return Running future that will complete with GetUserDataResult
+         */
+        public PlayFabFuture<PlayFabResult<GetUserDataResult>> GetUserInternalData(final GetUserDataRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<GetUserDataResult>>() {
+                public PlayFabResult<GetUserDataResult> call() throws Exception {
+                    return PlayFabServerAPI.privateGetUserInternalDataAsync(PlayFabServerInstanceAPI.this, request);
+                }
+            });
+        }
+
+        /**
+         * Retrieves the specified user's current inventory of virtual goods
+         * @param request GetUserInventoryRequest
+         * @return Running future that will complete with GetUserInventoryResult
+         */
+        public PlayFabFuture<PlayFabResult<GetUserInventoryResult>> GetUserInventory(final GetUserInventoryRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<GetUserInventoryResult>>() {
+                public PlayFabResult<GetUserInventoryResult> call() throws Exception {
+                    return PlayFabServerAPI.privateGetUserInventoryAsync(PlayFabServerInstanceAPI.this, request);
+                }
+            });
+        }
+
+        /**
+         * Retrieves the publisher-specific custom data for the user which is readable and writable by the client
+         * @param request GetUserDataRequest
+         * @return Running future that will complete with GetUserDataResult
+         */
+        public PlayFabFuture<PlayFabResult<GetUserDataResult>> GetUserPublisherData(final GetUserDataRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<GetUserDataResult>>() {
+                public PlayFabResult<GetUserDataResult> call() throws Exception {
+                    return PlayFabServerAPI.privateGetUserPublisherDataAsync(PlayFabServerInstanceAPI.this, request);
+                }
+            });
+        }
+
+        /**
+         * Retrieves the publisher-specific custom data for the user which cannot be accessed by the client
+         * @param request GetUserDataRequest
+         * @return Running future that will complete with GetUserDataResult
+         */
+        public PlayFabFuture<PlayFabResult<GetUserDataResult>> GetUserPublisherInternalData(final GetUserDataRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<GetUserDataResult>>() {
+                public PlayFabResult<GetUserDataResult> call() throws Exception {
+                    return PlayFabServerAPI.privateGetUserPublisherInternalDataAsync(PlayFabServerInstanceAPI.this, request);
+                }
+            });
+        }
+
+        /**
+         * Retrieves the publisher-specific custom data for the user which can only be read by the client
+         * @param request GetUserDataRequest
+         * @return Running future that will complete with GetUserDataResult
+         */
+        public PlayFabFuture<PlayFabResult<GetUserDataResult>> GetUserPublisherReadOnlyData(final GetUserDataRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<GetUserDataResult>>() {
+                public PlayFabResult<GetUserDataResult> call() throws Exception {
+                    return PlayFabServerAPI.privateGetUserPublisherReadOnlyDataAsync(PlayFabServerInstanceAPI.this, request);
+                }
+            });
+        }
+
+        /**
+         * Retrieves the title-specific custom data for the user which can only be read by the client
+         * @param request GetUserDataRequest
+         * @return Running future that will complete with GetUserDataResult
+         */
+        public PlayFabFuture<PlayFabResult<GetUserDataResult>> GetUserReadOnlyData(final GetUserDataRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<GetUserDataResult>>() {
+                public PlayFabResult<GetUserDataResult> call() throws Exception {
+                    return PlayFabServerAPI.privateGetUserReadOnlyDataAsync(PlayFabServerInstanceAPI.this, request);
+                }
+            });
+        }
+
+        /**
+         * Grants the specified character type to the user. CharacterIds are not globally unique; characterId must be evaluated
+         * with the parent PlayFabId to guarantee uniqueness.
+         * @param request GrantCharacterToUserRequest
+         * @return Running future that will complete with GrantCharacterToUserResult
+         */
+        public PlayFabFuture<PlayFabResult<GrantCharacterToUserResult>> GrantCharacterToUser(final GrantCharacterToUserRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<GrantCharacterToUserResult>>() {
+                public PlayFabResult<GrantCharacterToUserResult> call() throws Exception {
+                    return PlayFabServerAPI.privateGrantCharacterToUserAsync(PlayFabServerInstanceAPI.this, request);
+                }
+            });
+        }
+
+        /**
+         * Adds the specified items to the specified character's inventory
+         * @param request GrantItemsToCharacterRequest
+         * @return Running future that will complete with GrantItemsToCharacterResult
+         */
+        public PlayFabFuture<PlayFabResult<GrantItemsToCharacterResult>> GrantItemsToCharacter(final GrantItemsToCharacterRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<GrantItemsToCharacterResult>>() {
+                public PlayFabResult<GrantItemsToCharacterResult> call() throws Exception {
+                    return PlayFabServerAPI.privateGrantItemsToCharacterAsync(PlayFabServerInstanceAPI.this, request);
+                }
+            });
+        }
+
+        /**
+         * Adds the specified items to the specified user's inventory
+         * @param request GrantItemsToUserRequest
+         * @return Running future that will complete with GrantItemsToUserResult
+         */
+        public PlayFabFuture<PlayFabResult<GrantItemsToUserResult>> GrantItemsToUser(final GrantItemsToUserRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<GrantItemsToUserResult>>() {
+                public PlayFabResult<GrantItemsToUserResult> call() throws Exception {
+                    return PlayFabServerAPI.privateGrantItemsToUserAsync(PlayFabServerInstanceAPI.this, request);
+                }
+            });
+        }
+
+        /**
+         * Adds the specified items to the specified user inventories
+         * @param request GrantItemsToUsersRequest
+         * @return Running future that will complete with GrantItemsToUsersResult
+         */
+        public PlayFabFuture<PlayFabResult<GrantItemsToUsersResult>> GrantItemsToUsers(final GrantItemsToUsersRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<GrantItemsToUsersResult>>() {
+                public PlayFabResult<GrantItemsToUsersResult> call() throws Exception {
+                    return PlayFabServerAPI.privateGrantItemsToUsersAsync(PlayFabServerInstanceAPI.this, request);
+                }
+            });
+        }
+
+        /**
+         * Links the PlayStation Network account associated with the provided access code to the user's PlayFab account
+         * @param request LinkPSNAccountRequest
+         * @return Running future that will complete with LinkPSNAccountResult
+         */
+        public PlayFabFuture<PlayFabResult<LinkPSNAccountResult>> LinkPSNAccount(final LinkPSNAccountRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<LinkPSNAccountResult>>() {
+                public PlayFabResult<LinkPSNAccountResult> call() throws Exception {
+                    return PlayFabServerAPI.privateLinkPSNAccountAsync(PlayFabServerInstanceAPI.this, request);
+                }
+            });
+        }
+
+        /**
+         * Links the custom server identifier, generated by the title, to the user's PlayFab account.
+         * @param request LinkServerCustomIdRequest
+         * @return Running future that will complete with LinkServerCustomIdResult
+         */
+        public PlayFabFuture<PlayFabResult<LinkServerCustomIdResult>> LinkServerCustomId(final LinkServerCustomIdRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<LinkServerCustomIdResult>>() {
+                public PlayFabResult<LinkServerCustomIdResult> call() throws Exception {
+                    return PlayFabServerAPI.privateLinkServerCustomIdAsync(PlayFabServerInstanceAPI.this, request);
+                }
+            });
+        }
+
+        /**
+         * Links the Xbox Live account associated with the provided access code to the user's PlayFab account
+         * @param request LinkXboxAccountRequest
+         * @return Running future that will complete with LinkXboxAccountResult
+         */
+        public PlayFabFuture<PlayFabResult<LinkXboxAccountResult>> LinkXboxAccount(final LinkXboxAccountRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<LinkXboxAccountResult>>() {
+                public PlayFabResult<LinkXboxAccountResult> call() throws Exception {
+                    return PlayFabServerAPI.privateLinkXboxAccountAsync(PlayFabServerInstanceAPI.this, request);
+                }
+            });
+        }
+
+        /**
+         * Securely login a game client from an external server backend using a custom identifier for that player. Server Custom ID
+         * and Client Custom ID are mutually exclusive and cannot be used to retrieve the same player account.
+         * @param request LoginWithServerCustomIdRequest
+         * @return Running future that will complete with ServerLoginResult
+         */
+        public PlayFabFuture<PlayFabResult<ServerLoginResult>> LoginWithServerCustomId(final LoginWithServerCustomIdRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<ServerLoginResult>>() {
+                public PlayFabResult<ServerLoginResult> call() throws Exception {
+                    return PlayFabServerAPI.privateLoginWithServerCustomIdAsync(PlayFabServerInstanceAPI.this, request);
+                }
+            });
+        }
+
+        /**
+         * Signs the user in using an Steam ID, returning a session identifier that can subsequently be used for API calls which
+         * require an authenticated user
+         * @param request LoginWithSteamIdRequest
+         * @return Running future that will complete with ServerLoginResult
+         */
+        public PlayFabFuture<PlayFabResult<ServerLoginResult>> LoginWithSteamId(final LoginWithSteamIdRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<ServerLoginResult>>() {
+                public PlayFabResult<ServerLoginResult> call() throws Exception {
+                    return PlayFabServerAPI.privateLoginWithSteamIdAsync(PlayFabServerInstanceAPI.this, request);
+                }
+            });
+        }
+
+        /**
+         * Signs the user in using a Xbox Live Token from an external server backend, returning a session identifier that can
+         * subsequently be used for API calls which require an authenticated user
+         * @param request LoginWithXboxRequest
+         * @return Running future that will complete with ServerLoginResult
+         */
+        public PlayFabFuture<PlayFabResult<ServerLoginResult>> LoginWithXbox(final LoginWithXboxRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<ServerLoginResult>>() {
+                public PlayFabResult<ServerLoginResult> call() throws Exception {
+                    return PlayFabServerAPI.privateLoginWithXboxAsync(PlayFabServerInstanceAPI.this, request);
+                }
+            });
+        }
+
+        /**
+         * Signs the user in using an Xbox ID and Sandbox ID, returning a session identifier that can subsequently be used for API
+         * calls which require an authenticated user
+         * @param request LoginWithXboxIdRequest
+         * @return Running future that will complete with ServerLoginResult
+         */
+        public PlayFabFuture<PlayFabResult<ServerLoginResult>> LoginWithXboxId(final LoginWithXboxIdRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<ServerLoginResult>>() {
+                public PlayFabResult<ServerLoginResult> call() throws Exception {
+                    return PlayFabServerAPI.privateLoginWithXboxIdAsync(PlayFabServerInstanceAPI.this, request);
+                }
+            });
+        }
+
+        /**
+         * Modifies the number of remaining uses of a player's inventory item
+         * @param request ModifyItemUsesRequest
+         * @return Running future that will complete with ModifyItemUsesResult
+         */
+        public PlayFabFuture<PlayFabResult<ModifyItemUsesResult>> ModifyItemUses(final ModifyItemUsesRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<ModifyItemUsesResult>>() {
+                public PlayFabResult<ModifyItemUsesResult> call() throws Exception {
+                    return PlayFabServerAPI.privateModifyItemUsesAsync(PlayFabServerInstanceAPI.this, request);
+                }
+            });
+        }
+
+        /**
+         * Moves an item from a character's inventory into another of the users's character's inventory.
+         * @param request MoveItemToCharacterFromCharacterRequest
+         * @return Running future that will complete with MoveItemToCharacterFromCharacterResult
+         */
+        public PlayFabFuture<PlayFabResult<MoveItemToCharacterFromCharacterResult>> MoveItemToCharacterFromCharacter(final MoveItemToCharacterFromCharacterRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<MoveItemToCharacterFromCharacterResult>>() {
+                public PlayFabResult<MoveItemToCharacterFromCharacterResult> call() throws Exception {
+                    return PlayFabServerAPI.privateMoveItemToCharacterFromCharacterAsync(PlayFabServerInstanceAPI.this, request);
+                }
+            });
+        }
+
+        /**
+         * Moves an item from a user's inventory into their character's inventory.
+         * @param request MoveItemToCharacterFromUserRequest
+         * @return Running future that will complete with MoveItemToCharacterFromUserResult
+         */
+        public PlayFabFuture<PlayFabResult<MoveItemToCharacterFromUserResult>> MoveItemToCharacterFromUser(final MoveItemToCharacterFromUserRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<MoveItemToCharacterFromUserResult>>() {
+                public PlayFabResult<MoveItemToCharacterFromUserResult> call() throws Exception {
+                    return PlayFabServerAPI.privateMoveItemToCharacterFromUserAsync(PlayFabServerInstanceAPI.this, request);
+                }
+            });
+        }
+
+        /**
+         * Moves an item from a character's inventory into the owning user's inventory.
+         * @param request MoveItemToUserFromCharacterRequest
+         * @return Running future that will complete with MoveItemToUserFromCharacterResult
+         */
+        public PlayFabFuture<PlayFabResult<MoveItemToUserFromCharacterResult>> MoveItemToUserFromCharacter(final MoveItemToUserFromCharacterRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<MoveItemToUserFromCharacterResult>>() {
+                public PlayFabResult<MoveItemToUserFromCharacterResult> call() throws Exception {
+                    return PlayFabServerAPI.privateMoveItemToUserFromCharacterAsync(PlayFabServerInstanceAPI.this, request);
+                }
+            });
+        }
+
+        /**
+         * Informs the PlayFab match-making service that the user specified has left the Game Server Instance
+         * @param request NotifyMatchmakerPlayerLeftRequest
+         * @return Running future that will complete with NotifyMatchmakerPlayerLeftResult
+         */
+        public PlayFabFuture<PlayFabResult<NotifyMatchmakerPlayerLeftResult>> NotifyMatchmakerPlayerLeft(final NotifyMatchmakerPlayerLeftRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<NotifyMatchmakerPlayerLeftResult>>() {
+                public PlayFabResult<NotifyMatchmakerPlayerLeftResult> call() throws Exception {
+                    return PlayFabServerAPI.privateNotifyMatchmakerPlayerLeftAsync(PlayFabServerInstanceAPI.this, request);
+                }
+            });
+        }
+
+        /**
+         * Adds the virtual goods associated with the coupon to the user's inventory. Coupons can be generated via the
+         * Economy-&gt;Catalogs tab in the PlayFab Game Manager.
+         * @param request RedeemCouponRequest
+         * @return Running future that will complete with RedeemCouponResult
+         */
+        public PlayFabFuture<PlayFabResult<RedeemCouponResult>> RedeemCoupon(final RedeemCouponRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<RedeemCouponResult>>() {
+                public PlayFabResult<RedeemCouponResult> call() throws Exception {
+                    return PlayFabServerAPI.privateRedeemCouponAsync(PlayFabServerInstanceAPI.this, request);
+                }
+            });
+        }
+
+        /**
+         * Validates a Game Server session ticket and returns details about the user
+         * @param request RedeemMatchmakerTicketRequest
+         * @return Running future that will complete with RedeemMatchmakerTicketResult
+         */
+        public PlayFabFuture<PlayFabResult<RedeemMatchmakerTicketResult>> RedeemMatchmakerTicket(final RedeemMatchmakerTicketRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<RedeemMatchmakerTicketResult>>() {
+                public PlayFabResult<RedeemMatchmakerTicketResult> call() throws Exception {
+                    return PlayFabServerAPI.privateRedeemMatchmakerTicketAsync(PlayFabServerInstanceAPI.this, request);
+                }
+            });
+        }
+
+        /**
+         * Set the state of the indicated Game Server Instance. Also update the heartbeat for the instance.
+         * @param request RefreshGameServerInstanceHeartbeatRequest
+         * @return Running future that will complete with RefreshGameServerInstanceHeartbeatResult
+         */
+        public PlayFabFuture<PlayFabResult<RefreshGameServerInstanceHeartbeatResult>> RefreshGameServerInstanceHeartbeat(final RefreshGameServerInstanceHeartbeatRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<RefreshGameServerInstanceHeartbeatResult>>() {
+                public PlayFabResult<RefreshGameServerInstanceHeartbeatResult> call() throws Exception {
+                    return PlayFabServerAPI.privateRefreshGameServerInstanceHeartbeatAsync(PlayFabServerInstanceAPI.this, request);
+                }
+            });
+        }
+
+        /**
+         * Inform the matchmaker that a new Game Server Instance is added.
+         * @param request RegisterGameRequest
+         * @return Running future that will complete with RegisterGameResponse
+         */
+        public PlayFabFuture<PlayFabResult<RegisterGameResponse>> RegisterGame(final RegisterGameRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<RegisterGameResponse>>() {
+                public PlayFabResult<RegisterGameResponse> call() throws Exception {
+                    return PlayFabServerAPI.privateRegisterGameAsync(PlayFabServerInstanceAPI.this, request);
+                }
+            });
+        }
+
+        /**
+         * Removes the specified friend from the the user's friend list
+         * @param request RemoveFriendRequest
+         * @return Running future that will complete with EmptyResponse
+         */
+        public PlayFabFuture<PlayFabResult<EmptyResponse>> RemoveFriend(final RemoveFriendRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<EmptyResponse>>() {
+                public PlayFabResult<EmptyResponse> call() throws Exception {
+                    return PlayFabServerAPI.privateRemoveFriendAsync(PlayFabServerInstanceAPI.this, request);
+                }
+            });
+        }
+
+        /**
+         * Removes the specified generic service identifier from the player's PlayFab account.
+         * @param request RemoveGenericIDRequest
+         * @return Running future that will complete with EmptyResult
+         */
+        public PlayFabFuture<PlayFabResult<EmptyResult>> RemoveGenericID(final RemoveGenericIDRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<EmptyResult>>() {
+                public PlayFabResult<EmptyResult> call() throws Exception {
+                    return PlayFabServerAPI.privateRemoveGenericIDAsync(PlayFabServerInstanceAPI.this, request);
+                }
+            });
+        }
+
+        /**
+         * Remove a given tag from a player profile. The tag's namespace is automatically generated based on the source of the tag.
+         * @param request RemovePlayerTagRequest
+         * @return Running future that will complete with RemovePlayerTagResult
+         */
+        public PlayFabFuture<PlayFabResult<RemovePlayerTagResult>> RemovePlayerTag(final RemovePlayerTagRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<RemovePlayerTagResult>>() {
+                public PlayFabResult<RemovePlayerTagResult> call() throws Exception {
+                    return PlayFabServerAPI.privateRemovePlayerTagAsync(PlayFabServerInstanceAPI.this, request);
+                }
+            });
+        }
+
+        /**
+         * Removes users from the set of those able to update the shared data and the set of users in the group. Only users in the
+         * group can remove members. If as a result of the call, zero users remain with access, the group and its associated data
+         * will be deleted. Shared Groups are designed for sharing data between a very small number of players, please see our
+         * guide: https://docs.microsoft.com/gaming/playfab/features/social/groups/using-shared-group-data
+         * @param request RemoveSharedGroupMembersRequest
+         * @return Running future that will complete with RemoveSharedGroupMembersResult
+         */
+        public PlayFabFuture<PlayFabResult<RemoveSharedGroupMembersResult>> RemoveSharedGroupMembers(final RemoveSharedGroupMembersRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<RemoveSharedGroupMembersResult>>() {
+                public PlayFabResult<RemoveSharedGroupMembersResult> call() throws Exception {
+                    return PlayFabServerAPI.privateRemoveSharedGroupMembersAsync(PlayFabServerInstanceAPI.this, request);
+                }
+            });
+        }
+
+        /**
+         * Submit a report about a player (due to bad bahavior, etc.) on behalf of another player, so that customer service
+         * representatives for the title can take action concerning potentially toxic players.
+         * @param request ReportPlayerServerRequest
+         * @return Running future that will complete with ReportPlayerServerResult
+         */
+        public PlayFabFuture<PlayFabResult<ReportPlayerServerResult>> ReportPlayer(final ReportPlayerServerRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<ReportPlayerServerResult>>() {
+                public PlayFabResult<ReportPlayerServerResult> call() throws Exception {
+                    return PlayFabServerAPI.privateReportPlayerAsync(PlayFabServerInstanceAPI.this, request);
+                }
+            });
+        }
+
+        /**
+         * Revoke all active bans for a user.
+         * @param request RevokeAllBansForUserRequest
+         * @return Running future that will complete with RevokeAllBansForUserResult
+         */
+        public PlayFabFuture<PlayFabResult<RevokeAllBansForUserResult>> RevokeAllBansForUser(final RevokeAllBansForUserRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<RevokeAllBansForUserResult>>() {
+                public PlayFabResult<RevokeAllBansForUserResult> call() throws Exception {
+                    return PlayFabServerAPI.privateRevokeAllBansForUserAsync(PlayFabServerInstanceAPI.this, request);
+                }
+            });
+        }
+
+        /**
+         * Revoke all active bans specified with BanId.
+         * @param request RevokeBansRequest
+         * @return Running future that will complete with RevokeBansResult
+         */
+        public PlayFabFuture<PlayFabResult<RevokeBansResult>> RevokeBans(final RevokeBansRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<RevokeBansResult>>() {
+                public PlayFabResult<RevokeBansResult> call() throws Exception {
+                    return PlayFabServerAPI.privateRevokeBansAsync(PlayFabServerInstanceAPI.this, request);
+                }
+            });
+        }
+
+        /**
+         * Revokes access to an item in a user's inventory
+         * @param request RevokeInventoryItemRequest
+         * @return Running future that will complete with RevokeInventoryResult
+         */
+        public PlayFabFuture<PlayFabResult<RevokeInventoryResult>> RevokeInventoryItem(final RevokeInventoryItemRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<RevokeInventoryResult>>() {
+                public PlayFabResult<RevokeInventoryResult> call() throws Exception {
+                    return PlayFabServerAPI.privateRevokeInventoryItemAsync(PlayFabServerInstanceAPI.this, request);
+                }
+            });
+        }
+
+        /**
+         * Revokes access for up to 25 items across multiple users and characters.
+         * @param request RevokeInventoryItemsRequest
+         * @return Running future that will complete with RevokeInventoryItemsResult
+         */
+        public PlayFabFuture<PlayFabResult<RevokeInventoryItemsResult>> RevokeInventoryItems(final RevokeInventoryItemsRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<RevokeInventoryItemsResult>>() {
+                public PlayFabResult<RevokeInventoryItemsResult> call() throws Exception {
+                    return PlayFabServerAPI.privateRevokeInventoryItemsAsync(PlayFabServerInstanceAPI.this, request);
+                }
+            });
+        }
+
+        /**
+         * Saves push notification template for title
+         * @param request SavePushNotificationTemplateRequest
+         * @return Running future that will complete with SavePushNotificationTemplateResult
+         */
+        public PlayFabFuture<PlayFabResult<SavePushNotificationTemplateResult>> SavePushNotificationTemplate(final SavePushNotificationTemplateRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<SavePushNotificationTemplateResult>>() {
+                public PlayFabResult<SavePushNotificationTemplateResult> call() throws Exception {
+                    return PlayFabServerAPI.privateSavePushNotificationTemplateAsync(PlayFabServerInstanceAPI.this, request);
+                }
+            });
+        }
+
+        /**
+         * Forces an email to be sent to the registered contact email address for the user's account based on an account recovery
+         * email template
+         * @param request SendCustomAccountRecoveryEmailRequest
+         * @return Running future that will complete with SendCustomAccountRecoveryEmailResult
+         */
+        public PlayFabFuture<PlayFabResult<SendCustomAccountRecoveryEmailResult>> SendCustomAccountRecoveryEmail(final SendCustomAccountRecoveryEmailRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<SendCustomAccountRecoveryEmailResult>>() {
+                public PlayFabResult<SendCustomAccountRecoveryEmailResult> call() throws Exception {
+                    return PlayFabServerAPI.privateSendCustomAccountRecoveryEmailAsync(PlayFabServerInstanceAPI.this, request);
+                }
+            });
+        }
+
+        /**
+         * Sends an email based on an email template to a player's contact email
+         * @param request SendEmailFromTemplateRequest
+         * @return Running future that will complete with SendEmailFromTemplateResult
+         */
+        public PlayFabFuture<PlayFabResult<SendEmailFromTemplateResult>> SendEmailFromTemplate(final SendEmailFromTemplateRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<SendEmailFromTemplateResult>>() {
+                public PlayFabResult<SendEmailFromTemplateResult> call() throws Exception {
+                    return PlayFabServerAPI.privateSendEmailFromTemplateAsync(PlayFabServerInstanceAPI.this, request);
+                }
+            });
+        }
+
+        /**
+         * Sends an iOS/Android Push Notification to a specific user, if that user's device has been configured for Push
+         * Notifications in PlayFab. If a user has linked both Android and iOS devices, both will be notified.
+         * @param request SendPushNotificationRequest
+         * @return Running future that will complete with SendPushNotificationResult
+         */
+        public PlayFabFuture<PlayFabResult<SendPushNotificationResult>> SendPushNotification(final SendPushNotificationRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<SendPushNotificationResult>>() {
+                public PlayFabResult<SendPushNotificationResult> call() throws Exception {
+                    return PlayFabServerAPI.privateSendPushNotificationAsync(PlayFabServerInstanceAPI.this, request);
+                }
+            });
+        }
+
+        /**
+         * Sends an iOS/Android Push Notification template to a specific user, if that user's device has been configured for Push
+         * Notifications in PlayFab. If a user has linked both Android and iOS devices, both will be notified.
+         * @param request SendPushNotificationFromTemplateRequest
+         * @return Running future that will complete with SendPushNotificationResult
+         */
+        public PlayFabFuture<PlayFabResult<SendPushNotificationResult>> SendPushNotificationFromTemplate(final SendPushNotificationFromTemplateRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<SendPushNotificationResult>>() {
+                public PlayFabResult<SendPushNotificationResult> call() throws Exception {
+                    return PlayFabServerAPI.privateSendPushNotificationFromTemplateAsync(PlayFabServerInstanceAPI.this, request);
+                }
+            });
+        }
+
+        /**
+         * Updates the tag list for a specified user in the friend list of another user
+         * @param request SetFriendTagsRequest
+         * @return Running future that will complete with EmptyResponse
+         */
+        public PlayFabFuture<PlayFabResult<EmptyResponse>> SetFriendTags(final SetFriendTagsRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<EmptyResponse>>() {
+                public PlayFabResult<EmptyResponse> call() throws Exception {
+                    return PlayFabServerAPI.privateSetFriendTagsAsync(PlayFabServerInstanceAPI.this, request);
+                }
+            });
+        }
+
+        /**
+         * Sets the custom data of the indicated Game Server Instance
+         * @param request SetGameServerInstanceDataRequest
+         * @return Running future that will complete with SetGameServerInstanceDataResult
+         */
+        public PlayFabFuture<PlayFabResult<SetGameServerInstanceDataResult>> SetGameServerInstanceData(final SetGameServerInstanceDataRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<SetGameServerInstanceDataResult>>() {
+                public PlayFabResult<SetGameServerInstanceDataResult> call() throws Exception {
+                    return PlayFabServerAPI.privateSetGameServerInstanceDataAsync(PlayFabServerInstanceAPI.this, request);
+                }
+            });
+        }
+
+        /**
+         * Set the state of the indicated Game Server Instance.
+         * @param request SetGameServerInstanceStateRequest
+         * @return Running future that will complete with SetGameServerInstanceStateResult
+         */
+        public PlayFabFuture<PlayFabResult<SetGameServerInstanceStateResult>> SetGameServerInstanceState(final SetGameServerInstanceStateRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<SetGameServerInstanceStateResult>>() {
+                public PlayFabResult<SetGameServerInstanceStateResult> call() throws Exception {
+                    return PlayFabServerAPI.privateSetGameServerInstanceStateAsync(PlayFabServerInstanceAPI.this, request);
+                }
+            });
+        }
+
+        /**
+         * Set custom tags for the specified Game Server Instance
+         * @param request SetGameServerInstanceTagsRequest
+         * @return Running future that will complete with SetGameServerInstanceTagsResult
+         */
+        public PlayFabFuture<PlayFabResult<SetGameServerInstanceTagsResult>> SetGameServerInstanceTags(final SetGameServerInstanceTagsRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<SetGameServerInstanceTagsResult>>() {
+                public PlayFabResult<SetGameServerInstanceTagsResult> call() throws Exception {
+                    return PlayFabServerAPI.privateSetGameServerInstanceTagsAsync(PlayFabServerInstanceAPI.this, request);
+                }
+            });
+        }
+
+        /**
+         * Sets the player's secret if it is not already set. Player secrets are used to sign API requests. To reset a player's
+         * secret use the Admin or Server API method SetPlayerSecret.
+         * @param request SetPlayerSecretRequest
+         * @return Running future that will complete with SetPlayerSecretResult
+         */
+        public PlayFabFuture<PlayFabResult<SetPlayerSecretResult>> SetPlayerSecret(final SetPlayerSecretRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<SetPlayerSecretResult>>() {
+                public PlayFabResult<SetPlayerSecretResult> call() throws Exception {
+                    return PlayFabServerAPI.privateSetPlayerSecretAsync(PlayFabServerInstanceAPI.this, request);
+                }
+            });
+        }
+
+        /**
+         * Updates the key-value store of custom publisher settings
+         * @param request SetPublisherDataRequest
+         * @return Running future that will complete with SetPublisherDataResult
+         */
+        public PlayFabFuture<PlayFabResult<SetPublisherDataResult>> SetPublisherData(final SetPublisherDataRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<SetPublisherDataResult>>() {
+                public PlayFabResult<SetPublisherDataResult> call() throws Exception {
+                    return PlayFabServerAPI.privateSetPublisherDataAsync(PlayFabServerInstanceAPI.this, request);
+                }
+            });
+        }
+
+        /**
+         * Updates the key-value store of custom title settings
+         * @param request SetTitleDataRequest
+         * @return Running future that will complete with SetTitleDataResult
+         */
+        public PlayFabFuture<PlayFabResult<SetTitleDataResult>> SetTitleData(final SetTitleDataRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<SetTitleDataResult>>() {
+                public PlayFabResult<SetTitleDataResult> call() throws Exception {
+                    return PlayFabServerAPI.privateSetTitleDataAsync(PlayFabServerInstanceAPI.this, request);
+                }
+            });
+        }
+
+        /**
+         * Updates the key-value store of custom title settings
+         * @param request SetTitleDataRequest
+         * @return Running future that will complete with SetTitleDataResult
+         */
+        public PlayFabFuture<PlayFabResult<SetTitleDataResult>> SetTitleInternalData(final SetTitleDataRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<SetTitleDataResult>>() {
+                public PlayFabResult<SetTitleDataResult> call() throws Exception {
+                    return PlayFabServerAPI.privateSetTitleInternalDataAsync(PlayFabServerInstanceAPI.this, request);
+                }
+            });
+        }
+
+        /**
+         * Decrements the character's balance of the specified virtual currency by the stated amount. It is possible to make a VC
+         * balance negative with this API.
+         * @param request SubtractCharacterVirtualCurrencyRequest
+         * @return Running future that will complete with ModifyCharacterVirtualCurrencyResult
+         */
+        public PlayFabFuture<PlayFabResult<ModifyCharacterVirtualCurrencyResult>> SubtractCharacterVirtualCurrency(final SubtractCharacterVirtualCurrencyRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<ModifyCharacterVirtualCurrencyResult>>() {
+                public PlayFabResult<ModifyCharacterVirtualCurrencyResult> call() throws Exception {
+                    return PlayFabServerAPI.privateSubtractCharacterVirtualCurrencyAsync(PlayFabServerInstanceAPI.this, request);
+                }
+            });
+        }
+
+        /**
+         * Decrements the user's balance of the specified virtual currency by the stated amount. It is possible to make a VC
+         * balance negative with this API.
+         * @param request SubtractUserVirtualCurrencyRequest
+         * @return Running future that will complete with ModifyUserVirtualCurrencyResult
+         */
+        public PlayFabFuture<PlayFabResult<ModifyUserVirtualCurrencyResult>> SubtractUserVirtualCurrency(final SubtractUserVirtualCurrencyRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<ModifyUserVirtualCurrencyResult>>() {
+                public PlayFabResult<ModifyUserVirtualCurrencyResult> call() throws Exception {
+                    return PlayFabServerAPI.privateSubtractUserVirtualCurrencyAsync(PlayFabServerInstanceAPI.this, request);
+                }
+            });
+        }
+
+        /**
+         * Unlinks the related PSN account from the user's PlayFab account
+         * @param request UnlinkPSNAccountRequest
+         * @return Running future that will complete with UnlinkPSNAccountResult
+         */
+        public PlayFabFuture<PlayFabResult<UnlinkPSNAccountResult>> UnlinkPSNAccount(final UnlinkPSNAccountRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<UnlinkPSNAccountResult>>() {
+                public PlayFabResult<UnlinkPSNAccountResult> call() throws Exception {
+                    return PlayFabServerAPI.privateUnlinkPSNAccountAsync(PlayFabServerInstanceAPI.this, request);
+                }
+            });
+        }
+
+        /**
+         * Unlinks the custom server identifier from the user's PlayFab account.
+         * @param request UnlinkServerCustomIdRequest
+         * @return Running future that will complete with UnlinkServerCustomIdResult
+         */
+        public PlayFabFuture<PlayFabResult<UnlinkServerCustomIdResult>> UnlinkServerCustomId(final UnlinkServerCustomIdRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<UnlinkServerCustomIdResult>>() {
+                public PlayFabResult<UnlinkServerCustomIdResult> call() throws Exception {
+                    return PlayFabServerAPI.privateUnlinkServerCustomIdAsync(PlayFabServerInstanceAPI.this, request);
+                }
+            });
+        }
+
+        /**
+         * Unlinks the related Xbox Live account from the user's PlayFab account
+         * @param request UnlinkXboxAccountRequest
+         * @return Running future that will complete with UnlinkXboxAccountResult
+         */
+        public PlayFabFuture<PlayFabResult<UnlinkXboxAccountResult>> UnlinkXboxAccount(final UnlinkXboxAccountRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<UnlinkXboxAccountResult>>() {
+                public PlayFabResult<UnlinkXboxAccountResult> call() throws Exception {
+                    return PlayFabServerAPI.privateUnlinkXboxAccountAsync(PlayFabServerInstanceAPI.this, request);
+                }
+            });
+        }
+
+        /**
+         * Opens a specific container (ContainerItemInstanceId), with a specific key (KeyItemInstanceId, when required), and
+         * returns the contents of the opened container. If the container (and key when relevant) are consumable (RemainingUses &gt;
+         * 0), their RemainingUses will be decremented, consistent with the operation of ConsumeItem.
+         * @param request UnlockContainerInstanceRequest
+         * @return Running future that will complete with UnlockContainerItemResult
+         */
+        public PlayFabFuture<PlayFabResult<UnlockContainerItemResult>> UnlockContainerInstance(final UnlockContainerInstanceRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<UnlockContainerItemResult>>() {
+                public PlayFabResult<UnlockContainerItemResult> call() throws Exception {
+                    return PlayFabServerAPI.privateUnlockContainerInstanceAsync(PlayFabServerInstanceAPI.this, request);
+                }
+            });
+        }
+
+        /**
+         * Searches Player or Character inventory for any ItemInstance matching the given CatalogItemId, if necessary unlocks it
+         * using any appropriate key, and returns the contents of the opened container. If the container (and key when relevant)
+         * are consumable (RemainingUses &gt; 0), their RemainingUses will be decremented, consistent with the operation of
+         * ConsumeItem.
+         * @param request UnlockContainerItemRequest
+         * @return Running future that will complete with UnlockContainerItemResult
+         */
+        public PlayFabFuture<PlayFabResult<UnlockContainerItemResult>> UnlockContainerItem(final UnlockContainerItemRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<UnlockContainerItemResult>>() {
+                public PlayFabResult<UnlockContainerItemResult> call() throws Exception {
+                    return PlayFabServerAPI.privateUnlockContainerItemAsync(PlayFabServerInstanceAPI.this, request);
+                }
+            });
+        }
+
+        /**
+         * Update the avatar URL of the specified player
+         * @param request UpdateAvatarUrlRequest
+         * @return Running future that will complete with EmptyResponse
+         */
+        public PlayFabFuture<PlayFabResult<EmptyResponse>> UpdateAvatarUrl(final UpdateAvatarUrlRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<EmptyResponse>>() {
+                public PlayFabResult<EmptyResponse> call() throws Exception {
+                    return PlayFabServerAPI.privateUpdateAvatarUrlAsync(PlayFabServerInstanceAPI.this, request);
+                }
+            });
+        }
+
+        /**
+         * Updates information of a list of existing bans specified with Ban Ids.
+         * @param request UpdateBansRequest
+         * @return Running future that will complete with UpdateBansResult
+         */
+        public PlayFabFuture<PlayFabResult<UpdateBansResult>> UpdateBans(final UpdateBansRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<UpdateBansResult>>() {
+                public PlayFabResult<UpdateBansResult> call() throws Exception {
+                    return PlayFabServerAPI.privateUpdateBansAsync(PlayFabServerInstanceAPI.this, request);
+                }
+            });
+        }
+
+        /**
+         * Updates the title-specific custom data for the user's character which is readable and writable by the client
+         * @param request UpdateCharacterDataRequest
+         * @return Running future that will complete with UpdateCharacterDataResult
+         */
+        public PlayFabFuture<PlayFabResult<UpdateCharacterDataResult>> UpdateCharacterData(final UpdateCharacterDataRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<UpdateCharacterDataResult>>() {
+                public PlayFabResult<UpdateCharacterDataResult> call() throws Exception {
+                    return PlayFabServerAPI.privateUpdateCharacterDataAsync(PlayFabServerInstanceAPI.this, request);
+                }
+            });
+        }
+
+        /**
+         * Updates the title-specific custom data for the user's character which cannot be accessed by the client
+         * @param request UpdateCharacterDataRequest
+         * @return Running future that will complete with UpdateCharacterDataResult
+         */
+        public PlayFabFuture<PlayFabResult<UpdateCharacterDataResult>> UpdateCharacterInternalData(final UpdateCharacterDataRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<UpdateCharacterDataResult>>() {
+                public PlayFabResult<UpdateCharacterDataResult> call() throws Exception {
+                    return PlayFabServerAPI.privateUpdateCharacterInternalDataAsync(PlayFabServerInstanceAPI.this, request);
+                }
+            });
+        }
+
+        /**
+         * Updates the title-specific custom data for the user's character which can only be read by the client
+         * @param request UpdateCharacterDataRequest
+         * @return Running future that will complete with UpdateCharacterDataResult
+         */
+        public PlayFabFuture<PlayFabResult<UpdateCharacterDataResult>> UpdateCharacterReadOnlyData(final UpdateCharacterDataRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<UpdateCharacterDataResult>>() {
+                public PlayFabResult<UpdateCharacterDataResult> call() throws Exception {
+                    return PlayFabServerAPI.privateUpdateCharacterReadOnlyDataAsync(PlayFabServerInstanceAPI.this, request);
+                }
+            });
+        }
+
+        /**
+         * Updates the values of the specified title-specific statistics for the specific character
+         * @param request UpdateCharacterStatisticsRequest
+         * @return Running future that will complete with UpdateCharacterStatisticsResult
+         */
+        public PlayFabFuture<PlayFabResult<UpdateCharacterStatisticsResult>> UpdateCharacterStatistics(final UpdateCharacterStatisticsRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<UpdateCharacterStatisticsResult>>() {
+                public PlayFabResult<UpdateCharacterStatisticsResult> call() throws Exception {
+                    return PlayFabServerAPI.privateUpdateCharacterStatisticsAsync(PlayFabServerInstanceAPI.this, request);
+                }
+            });
+        }
+
+        /**
+         * Updates the values of the specified title-specific statistics for the user
+         * @param request UpdatePlayerStatisticsRequest
+         * @return Running future that will complete with UpdatePlayerStatisticsResult
+         */
+        public PlayFabFuture<PlayFabResult<UpdatePlayerStatisticsResult>> UpdatePlayerStatistics(final UpdatePlayerStatisticsRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<UpdatePlayerStatisticsResult>>() {
+                public PlayFabResult<UpdatePlayerStatisticsResult> call() throws Exception {
+                    return PlayFabServerAPI.privateUpdatePlayerStatisticsAsync(PlayFabServerInstanceAPI.this, request);
+                }
+            });
+        }
+
+        /**
+         * Adds, updates, and removes data keys for a shared group object. If the permission is set to Public, all fields updated
+         * or added in this call will be readable by users not in the group. By default, data permissions are set to Private.
+         * Regardless of the permission setting, only members of the group (and the server) can update the data. Shared Groups are
+         * designed for sharing data between a very small number of players, please see our guide:
+         * https://docs.microsoft.com/gaming/playfab/features/social/groups/using-shared-group-data
+         * @param request UpdateSharedGroupDataRequest
+         * @return Running future that will complete with UpdateSharedGroupDataResult
+         */
+        public PlayFabFuture<PlayFabResult<UpdateSharedGroupDataResult>> UpdateSharedGroupData(final UpdateSharedGroupDataRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<UpdateSharedGroupDataResult>>() {
+                public PlayFabResult<UpdateSharedGroupDataResult> call() throws Exception {
+                    return PlayFabServerAPI.privateUpdateSharedGroupDataAsync(PlayFabServerInstanceAPI.this, request);
+                }
+            });
+        }
+
+        /**
+         * Updates the title-specific custom data for the user which is readable and writable by the client
+         * @param request UpdateUserDataRequest
+         * @return Running future that will complete with UpdateUserDataResult
+         */
+        public PlayFabFuture<PlayFabResult<UpdateUserDataResult>> UpdateUserData(final UpdateUserDataRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<UpdateUserDataResult>>() {
+                public PlayFabResult<UpdateUserDataResult> call() throws Exception {
+                    return PlayFabServerAPI.privateUpdateUserDataAsync(PlayFabServerInstanceAPI.this, request);
+                }
+            });
+        }
+
+        /**
+         * Updates the title-specific custom data for the user which cannot be accessed by the client
+         * @param request UpdateUserInternalDataRequest
+         * @return Running future that will complete with UpdateUserDataResult
+         */
+        public PlayFabFuture<PlayFabResult<UpdateUserDataResult>> UpdateUserInternalData(final UpdateUserInternalDataRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<UpdateUserDataResult>>() {
+                public PlayFabResult<UpdateUserDataResult> call() throws Exception {
+                    return PlayFabServerAPI.privateUpdateUserInternalDataAsync(PlayFabServerInstanceAPI.this, request);
+                }
+            });
+        }
+
+        /**
+         * Updates the key-value pair data tagged to the specified item, which is read-only from the client.
+         * @param request UpdateUserInventoryItemDataRequest
+         * @return Running future that will complete with EmptyResponse
+         */
+        public PlayFabFuture<PlayFabResult<EmptyResponse>> UpdateUserInventoryItemCustomData(final UpdateUserInventoryItemDataRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<EmptyResponse>>() {
+                public PlayFabResult<EmptyResponse> call() throws Exception {
+                    return PlayFabServerAPI.privateUpdateUserInventoryItemCustomDataAsync(PlayFabServerInstanceAPI.this, request);
+                }
+            });
+        }
+
+        /**
+         * Updates the publisher-specific custom data for the user which is readable and writable by the client
+         * @param request UpdateUserDataRequest
+         * @return Running future that will complete with UpdateUserDataResult
+         */
+        public PlayFabFuture<PlayFabResult<UpdateUserDataResult>> UpdateUserPublisherData(final UpdateUserDataRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<UpdateUserDataResult>>() {
+                public PlayFabResult<UpdateUserDataResult> call() throws Exception {
+                    return PlayFabServerAPI.privateUpdateUserPublisherDataAsync(PlayFabServerInstanceAPI.this, request);
+                }
+            });
+        }
+
+        /**
+         * Updates the publisher-specific custom data for the user which cannot be accessed by the client
+         * @param request UpdateUserInternalDataRequest
+         * @return Running future that will complete with UpdateUserDataResult
+         */
+        public PlayFabFuture<PlayFabResult<UpdateUserDataResult>> UpdateUserPublisherInternalData(final UpdateUserInternalDataRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<UpdateUserDataResult>>() {
+                public PlayFabResult<UpdateUserDataResult> call() throws Exception {
+                    return PlayFabServerAPI.privateUpdateUserPublisherInternalDataAsync(PlayFabServerInstanceAPI.this, request);
+                }
+            });
+        }
+
+        /**
+         * Updates the publisher-specific custom data for the user which can only be read by the client
+         * @param request UpdateUserDataRequest
+         * @return Running future that will complete with UpdateUserDataResult
+         */
+        public PlayFabFuture<PlayFabResult<UpdateUserDataResult>> UpdateUserPublisherReadOnlyData(final UpdateUserDataRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<UpdateUserDataResult>>() {
+                public PlayFabResult<UpdateUserDataResult> call() throws Exception {
+                    return PlayFabServerAPI.privateUpdateUserPublisherReadOnlyDataAsync(PlayFabServerInstanceAPI.this, request);
+                }
+            });
+        }
+
+        /**
+         * Updates the title-specific custom data for the user which can only be read by the client
+         * @param request UpdateUserDataRequest
+         * @return Running future that will complete with UpdateUserDataResult
+         */
+        public PlayFabFuture<PlayFabResult<UpdateUserDataResult>> UpdateUserReadOnlyData(final UpdateUserDataRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<UpdateUserDataResult>>() {
+                public PlayFabResult<UpdateUserDataResult> call() throws Exception {
+                    return PlayFabServerAPI.privateUpdateUserReadOnlyDataAsync(PlayFabServerInstanceAPI.this, request);
+                }
+            });
+        }
+
+        /**
+         * Writes a character-based event into PlayStream.
+         * @param request WriteServerCharacterEventRequest
+         * @return Running future that will complete with WriteEventResponse
+         */
+        public PlayFabFuture<PlayFabResult<WriteEventResponse>> WriteCharacterEvent(final WriteServerCharacterEventRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<WriteEventResponse>>() {
+                public PlayFabResult<WriteEventResponse> call() throws Exception {
+                    return PlayFabServerAPI.privateWriteCharacterEventAsync(PlayFabServerInstanceAPI.this, request);
+                }
+            });
+        }
+
+        /**
+         * Writes a player-based event into PlayStream.
+         * @param request WriteServerPlayerEventRequest
+         * @return Running future that will complete with WriteEventResponse
+         */
+        public PlayFabFuture<PlayFabResult<WriteEventResponse>> WritePlayerEvent(final WriteServerPlayerEventRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<WriteEventResponse>>() {
+                public PlayFabResult<WriteEventResponse> call() throws Exception {
+                    return PlayFabServerAPI.privateWritePlayerEventAsync(PlayFabServerInstanceAPI.this, request);
+                }
+            });
+        }
+
+        /**
+         * Writes a title-based event into PlayStream.
+         * @param request WriteTitleEventRequest
+         * @return Running future that will complete with WriteEventResponse
+         */
+        public PlayFabFuture<PlayFabResult<WriteEventResponse>> WriteTitleEvent(final WriteTitleEventRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<WriteEventResponse>>() {
+                public PlayFabResult<WriteEventResponse> call() throws Exception {
+                    return PlayFabServerAPI.privateWriteTitleEventAsync(PlayFabServerInstanceAPI.this, request);
+                }
+            });
+        }
+    }
+}
@@ -0,0 +1,541 @@
+package com.playfab;
+
+import java.io.Closeable;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.*;
+
+import com.playfab.PlayFabEventsModels.*;
+import com.playfab.internal.PlayFabExecutors;
+
+/**
+ * Aggregates metrics-style telemetry in memory and emits one summary event per series and interval, instead of one event
+ * per sample.
+ *
+ * A series is a metric name plus dimensions, such as frame_time with map=harbor. Counters sum, gauges keep the last,
+ * minimum and maximum value, and histograms keep log-spaced buckets, so quantiles are accurate to RelativeAccuracy and
+ * histograms from many processes or intervals can be merged by adding their buckets. Buckets are allocated in small pages
+ * as values reach them, so a histogram only holds the range its samples cover. Recording takes primitives and is
+ * lock-free. NaN and infinite samples are not recorded, and are counted in Stats.rejected instead. Callers on hot paths
+ * should keep the Counter, Gauge or Histogram handle rather than look it up per sample.
+ *
+ * Every IntervalMilliseconds, each series that saw samples becomes an EventContents in EventNamespace, named after the
+ * metric, with the summary as its payload, and is added to the Pipeline. flush() emits at once and returns the events.
+ */
+public class PlayFabTelemetryAggregator implements Closeable {
+    public static final int MAX_REFUSED_KEYS = 10000; // Most refused series remembered, so that each is counted once in Stats.overflowed
+
+    /**
+     * Aggregator configuration, read when the aggregator is created
+     */
+    public static class Settings {
+        public PlayFabEventPipeline Pipeline = null; // Receives the summary events. Null leaves them to the caller of flush()
+        public String EventNamespace = "custom.metrics"; // Namespace of the summary events. WriteEvents requires "custom" or "custom."
+        public long IntervalMilliseconds = 60000; // How often summaries are emitted. 0 emits only on flush()
+        public double RelativeAccuracy = 0.01; // Largest relative error of histogram quantiles
+        public int MaxSeries = 10000; // Most distinct series. Series past this are counted in Stats.overflowed and not emitted
+    }
+
+    public static class Stats {
+        public int series;
+        public long emitted; // Summary events emitted
+        public long overflowed; // Distinct series refused for exceeding MaxSeries, each counted once, up to MAX_REFUSED_KEYS of them. Their samples are not emitted
+        public long rejected; // Gauge and histogram samples ignored for being NaN or infinite
+    }
+
+    private abstract static class Series {
+        private final String name;
+        private final Map<String, String> dimensions;
+
+        private Series(String name, Map<String, String> dimensions) {
+            this.name = name;
+            this.dimensions = dimensions;
+        }
+
+        // Returns the summary since the last call and starts a new interval, or null if there were no samples
+        abstract Map<String, Object> drain();
+    }
+
+    public static class Counter extends Series {
+        private final AtomicLong value = new AtomicLong();
+
+        private Counter(String name, Map<String, String> dimensions) {
+            super(name, dimensions);
+        }
+
+        public void increment() {
+            add(1);
+        }
+
+        public void add(long amount) {
+            value.addAndGet(amount);
+        }
+
+        Map<String, Object> drain() {
+            long total = value.getAndSet(0);
+            if (total == 0)
+                return null;
+            Map<String, Object> summary = new LinkedHashMap<String, Object>();
+            summary.put("Type", "counter");
+            summary.put("Value", total);
+            return summary;
+        }
+    }
+
+    public static class Gauge extends Series {
+        private final AtomicLong rejected;
+        private final AtomicLong count = new AtomicLong();
+        private final AtomicLong last = new AtomicLong();
+        private final AtomicLong min = new AtomicLong(Double.doubleToRawLongBits(Double.POSITIVE_INFINITY));
+        private final AtomicLong max = new AtomicLong(Double.doubleToRawLongBits(Double.NEGATIVE_INFINITY));
+
+        private Gauge(String name, Map<String, String> dimensions, AtomicLong rejected) {
+            super(name, dimensions);
+            this.rejected = rejected;
+        }
+
+        /**
+         * Records the current value. NaN and infinite values are ignored, and counted in Stats.rejected
+         */
+        public void set(double value) {
+            if (Double.isNaN(value) || Double.isInfinite(value)) {
+                rejected.incrementAndGet();
+                return;
+            }
+            last.set(Double.doubleToRawLongBits(value));
+            updateMin(min, value);
+            updateMax(max, value);
+            count.incrementAndGet();
+        }
+
+        Map<String, Object> drain() {
+            long samples = count.getAndSet(0);
+            if (samples == 0)
+                return null;
+            Map<String, Object> summary = new LinkedHashMap<String, Object>();
+            summary.put("Type", "gauge");
+            summary.put("Count", samples);
+            summary.put("Last", Double.longBitsToDouble(last.get()));
+            summary.put("Min", Double.longBitsToDouble(min.getAndSet(Double.doubleToRawLongBits(Double.POSITIVE_INFINITY))));
+            summary.put("Max", Double.longBitsToDouble(max.getAndSet(Double.doubleToRawLongBits(Double.NEGATIVE_INFINITY))));
+            return summary;
+        }
+    }
+
+    public static class Histogram extends Series {
+        private final HistogramSnapshot layout;
+        private final AtomicLong rejected;
+        private final AtomicReferenceArray<AtomicLongArray> pages; // Allocated on first use, and then kept
+        private final AtomicLong zeros = new AtomicLong(); // Samples of zero or less
+        private final AtomicLong count = new AtomicLong();
+        private final AtomicLong sum = new AtomicLong(Double.doubleToRawLongBits(0));
+        private final AtomicLong min = new AtomicLong(Double.doubleToRawLongBits(Double.POSITIVE_INFINITY));
+        private final AtomicLong max = new AtomicLong(Double.doubleToRawLongBits(Double.NEGATIVE_INFINITY));
+
+        private Histogram(String name, Map<String, String> dimensions, double relativeAccuracy, AtomicLong rejected) {
+            super(name, dimensions);
+            layout = new HistogramSnapshot(relativeAccuracy);
+            this.rejected = rejected;
+            pages = new AtomicReferenceArray<AtomicLongArray>(layout.pages.length);
+        }
+
+        /**
+         * Records a sample. NaN and infinite values are ignored, and counted in Stats.rejected
+         */
+        public void record(double value) {
+            if (Double.isNaN(value) || Double.isInfinite(value)) {
+                rejected.incrementAndGet();
+                return;
+            }
+            if (value > 0) {
+                int index = layout.indexOf(value);
+                page(index / HistogramSnapshot.PAGE_SIZE).incrementAndGet(index % HistogramSnapshot.PAGE_SIZE);
+            } else
+                zeros.incrementAndGet();
+            count.incrementAndGet();
+            addDouble(sum, value);
+            updateMin(min, value);
+            updateMax(max, value);
+        }
+
+        public void record(long value) {
+            record((double) value);
+        }
+
+        /**
+         * @return the samples since the last summary, without starting a new interval
+         */
+        public HistogramSnapshot snapshot() {
+            HistogramSnapshot snapshot = new HistogramSnapshot(layout.relativeAccuracy);
+            for (int p = 0; p < pages.length(); p++) {
+                AtomicLongArray page = pages.get(p);
+                for (int i = 0; page != null && i < page.length(); i++)
+                    snapshot.add(p * HistogramSnapshot.PAGE_SIZE + i, page.get(i));
+            }
+            snapshot.zeros = zeros.get();
+            snapshot.count = count.get();
+            snapshot.sum = Double.longBitsToDouble(sum.get());
+            snapshot.min = Double.longBitsToDouble(min.get());
+            snapshot.max = Double.longBitsToDouble(max.get());
+            return snapshot;
+        }
+
+        Map<String, Object> drain() {
+            if (count.get() == 0)
+                return null;
+            // Each field is reset on its own, so a sample recorded meanwhile may straddle two intervals, but none is lost
+            HistogramSnapshot snapshot = new HistogramSnapshot(layout.relativeAccuracy);
+            for (int p = 0; p < pages.length(); p++) {
+                AtomicLongArray page = pages.get(p);
+                for (int i = 0; page != null && i < page.length(); i++)
+                    snapshot.add(p * HistogramSnapshot.PAGE_SIZE + i, page.getAndSet(i, 0));
+            }
+            snapshot.zeros = zeros.getAndSet(0);
+            snapshot.count = count.getAndSet(0);
+            snapshot.sum = Double.longBitsToDouble(sum.getAndSet(Double.doubleToRawLongBits(0)));
+            snapshot.min = Double.longBitsToDouble(min.getAndSet(Double.doubleToRawLongBits(Double.POSITIVE_INFINITY)));
+            snapshot.max = Double.longBitsToDouble(max.getAndSet(Double.doubleToRawLongBits(Double.NEGATIVE_INFINITY)));
+            return snapshot.toPayload();
+        }
+
+        private AtomicLongArray page(int index) {
+            AtomicLongArray page = pages.get(index);
+            if (page == null) {
+                pages.compareAndSet(index, null, new AtomicLongArray(HistogramSnapshot.PAGE_SIZE));
+                page = pages.get(index);
+            }
+            return page;
+        }
+    }
+
+    /**
+     * Histogram counts in log-spaced buckets: bucket i holds values in (gamma^(i-1+offset), gamma^(i+offset)], where gamma is
+     * (1 + relativeAccuracy) / (1 - relativeAccuracy). Snapshots with the same accuracy merge by adding their buckets.
+     * Buckets are held in pages of PAGE_SIZE, allocated when a count first lands in them
+     */
+    public static class HistogramSnapshot {
+        private static final double MIN_VALUE = 1e-6; // Smaller positive values share the first bucket
+        private static final double MAX_VALUE = 1e12; // Larger values share the last bucket
+        private static final int PAGE_SIZE = 64;
+
+        private final double relativeAccuracy;
+        private final double gamma;
+        private final double logGamma;
+        private final int offset;
+        private final int bucketCount;
+        private final long[][] pages;
+        private long zeros;
+        private long count;
+        private double sum;
+        private double min = Double.POSITIVE_INFINITY;
+        private double max = Double.NEGATIVE_INFINITY;
+
+        public HistogramSnapshot(double relativeAccuracy) {
+            if (!(relativeAccuracy > 0 && relativeAccuracy < 1))
+                throw new IllegalArgumentException("relativeAccuracy must be between 0 and 1");
+            this.relativeAccuracy = relativeAccuracy;
+            gamma = (1 + relativeAccuracy) / (1 - relativeAccuracy);
+            logGamma = Math.log(gamma);
+            offset = (int) Math.ceil(Math.log(MIN_VALUE) / logGamma);
+            bucketCount = (int) Math.ceil(Math.log(MAX_VALUE) / logGamma) - offset + 1;
+            pages = new long[(bucketCount + PAGE_SIZE - 1) / PAGE_SIZE][];
+        }
+
+        private int indexOf(double value) {
+            int index = (int) Math.ceil(Math.log(value) / logGamma) - offset;
+            return index < 0 ? 0 : index >= bucketCount ? bucketCount - 1 : index;
+        }
+
+        private void add(int index, long samples) {
+            if (samples == 0)
+                return;
+            long[] page = pages[index / PAGE_SIZE];
+            if (page == null)
+                pages[index / PAGE_SIZE] = page = new long[PAGE_SIZE];
+            page[index % PAGE_SIZE] += samples;
+        }
+
+        public long getCount() {
+            return count;
+        }
+
+        public double getSum() {
+            return sum;
+        }
+
+        public double getMin() {
+            return min;
+        }
+
+        public double getMax() {
+            return max;
+        }
+
+        /**
+         * Adds another snapshot's samples to this one
+         * @throws IllegalArgumentException if the other snapshot has a different accuracy, so its buckets don't line up
+         */
+        public void merge(HistogramSnapshot other) {
+            if (other.relativeAccuracy != relativeAccuracy)
+                throw new IllegalArgumentException("Histograms with different accuracies can't be merged");
+            for (int p = 0; p < other.pages.length; p++) {
+                for (int i = 0; other.pages[p] != null && i < PAGE_SIZE; i++)
+                    add(p * PAGE_SIZE + i, other.pages[p][i]);
+            }
+            zeros += other.zeros;
+            count += other.count;
+            sum += other.sum;
+            min = Math.min(min, other.min);
+            max = Math.max(max, other.max);
+        }
+
+        /**
+         * @return the value at a quantile between 0 and 1, within relativeAccuracy of the exact answer. NaN if empty
+         */
+        public double getQuantile(double quantile) {
+            if (count == 0)
+                return Double.NaN;
+            long rank = (long) (quantile * (count - 1));
+            if (rank < zeros)
+                return Math.min(0, max);
+            long seen = zeros;
+            for (int p = 0; p < pages.length; p++) {
+                for (int i = 0; pages[p] != null && i < PAGE_SIZE; i++) {
+                    seen += pages[p][i];
+                    if (seen > rank) {
+                        // The midpoint, in relative terms, of the bucket's bounds
+                        double value = 2 * Math.pow(gamma, p * PAGE_SIZE + i + offset) / (gamma + 1);
+                        return Math.max(min, Math.min(max, value));
+                    }
+                }
+            }
+            return max;
+        }
+
+        private Map<String, Object> toPayload() {
+            Map<String, Object> summary = new LinkedHashMap<String, Object>();
+            summary.put("Type", "histogram");
+            summary.put("Count", count);
+            summary.put("Sum", sum);
+            summary.put("Min", min);
+            summary.put("Max", max);
+            summary.put("P50", getQuantile(0.5));
+            summary.put("P90", getQuantile(0.9));
+            summary.put("P99", getQuantile(0.99));
+            summary.put("RelativeAccuracy", relativeAccuracy);
+            summary.put("BucketOffset", offset);
+            summary.put("Zeros", zeros);
+            Map<String, Long> nonEmpty = new LinkedHashMap<String, Long>();
+            for (int p = 0; p < pages.length; p++) {
+                for (int i = 0; pages[p] != null && i < PAGE_SIZE; i++) {
+                    if (pages[p][i] != 0)
+                        nonEmpty.put(Integer.toString(p * PAGE_SIZE + i + offset), pages[p][i]);
+                }
+            }
+            summary.put("Buckets", nonEmpty);
+            return summary;
+        }
+    }
+
+    private final PlayFabEventPipeline pipeline;
+    private final String eventNamespace;
+    private final double relativeAccuracy;
+    private final int maxSeries;
+    private final ConcurrentHashMap<String, Series> series = new ConcurrentHashMap<String, Series>();
+    private final ConcurrentHashMap<String, Boolean> refused = new ConcurrentHashMap<String, Boolean>(); // Keys counted in overflowed
+    private final AtomicLong emitted = new AtomicLong();
+    private final AtomicLong overflowed = new AtomicLong();
+    private final AtomicLong rejected = new AtomicLong();
+    private final Counter refusedCounter;
+    private final Gauge refusedGauge;
+    private final Histogram refusedHistogram;
+    private final ScheduledExecutorService timer;
+    private long intervalStartMillis = System.currentTimeMillis(); // Guarded by this
+
+    public PlayFabTelemetryAggregator(Settings settings) {
+        pipeline = settings.Pipeline;
+        eventNamespace = settings.EventNamespace;
+        relativeAccuracy = settings.RelativeAccuracy;
+        maxSeries = Math.max(1, settings.MaxSeries);
+        new HistogramSnapshot(relativeAccuracy); // Validates the accuracy up front
+
+        // Handed out for every series past MaxSeries. They are never registered, so nothing recorded on them is emitted
+        refusedCounter = new Counter("", Collections.<String, String>emptyMap()) {
+            public void add(long amount) {
+            }
+        };
+        refusedGauge = new Gauge("", Collections.<String, String>emptyMap(), rejected) {
+            public void set(double value) {
+            }
+        };
+        refusedHistogram = new Histogram("", Collections.<String, String>emptyMap(), relativeAccuracy, rejected) {
+            public void record(double value) {
+            }
+        };
+
+        if (settings.IntervalMilliseconds > 0) {
+            timer = Executors.newSingleThreadScheduledExecutor(PlayFabExecutors.newDaemonThreadFactory("PlayFab-telemetry-"));
+            timer.scheduleAtFixedRate(new Runnable() {
+                public void run() {
+                    try {
+                        flush();
+                    } catch (Throwable ignored) {
+                        // Keeps the schedule alive. The samples stay for the next interval
+                    }
+                }
+            }, settings.IntervalMilliseconds, settings.IntervalMilliseconds, TimeUnit.MILLISECONDS);
+        } else {
+            timer = null;
+        }
+    }
+
+    /**
+     * @param dimensions Alternating dimension names and values
+     * @return the counter for this series, created on first use. Past MaxSeries, a shared counter that records nothing
+     */
+    public Counter counter(String name, String... dimensions) {
+        String key = key('c', name, dimensions);
+        Series found = series.get(key);
+        if (found == null)
+            found = refuse(key) ? refusedCounter : addSeries(key, new Counter(name, toMap(dimensions)));
+        return (Counter) found;
+    }
+
+    /**
+     * @param dimensions Alternating dimension names and values
+     * @return the gauge for this series, created on first use. Past MaxSeries, a shared gauge that records nothing
+     */
+    public Gauge gauge(String name, String... dimensions) {
+        String key = key('g', name, dimensions);
+        Series found = series.get(key);
+        if (found == null)
+            found = refuse(key) ? refusedGauge : addSeries(key, new Gauge(name, toMap(dimensions), rejected));
+        return (Gauge) found;
+    }
+
+    /**
+     * @param dimensions Alternating dimension names and values
+     * @return the histogram for this series, created on first use. Past MaxSeries, a shared histogram that records nothing
+     */
+    public Histogram histogram(String name, String... dimensions) {
+        String key = key('h', name, dimensions);
+        Series found = series.get(key);
+        if (found == null)
+            found = refuse(key) ? refusedHistogram : addSeries(key, new Histogram(name, toMap(dimensions), relativeAccuracy, rejected));
+        return (Histogram) found;
+    }
+
+    /**
+     * Emits a summary event for every series with samples since the last flush, and starts a new interval
+     * @return the events, which have also been added to the pipeline, if there is one
+     */
+    public List<EventContents> flush() {
+        long now = System.currentTimeMillis();
+        double intervalSeconds;
+        synchronized (this) {
+            intervalSeconds = (now - intervalStartMillis) / 1000.0;
+            intervalStartMillis = now;
+        }
+        Date timestamp = new Date(now);
+
+        List<EventContents> events = new ArrayList<EventContents>();
+        for (Series entry : series.values()) {
+            Map<String, Object> summary = entry.drain();
+            if (summary == null)
+                continue;
+            summary.put("IntervalSeconds", intervalSeconds);
+            if (!entry.dimensions.isEmpty())
+                summary.put("Dimensions", entry.dimensions);
+            EventContents event = new EventContents();
+            event.EventNamespace = eventNamespace;
+            event.Name = entry.name;
+            event.OriginalTimestamp = timestamp;
+            event.Payload = summary;
+            events.add(event);
+            if (pipeline != null)
+                pipeline.add(event);
+        }
+        emitted.addAndGet(events.size());
+        return events;
+    }
+
+    public Stats getStats() {
+        Stats stats = new Stats();
+        stats.series = series.size();
+        stats.emitted = emitted.get();
+        stats.overflowed = overflowed.get();
+        stats.rejected = rejected.get();
+        return stats;
+    }
+
+    /**
+     * Stops the timer and emits what has been recorded since the last interval
+     */
+    public void close() {
+        if (timer != null)
+            timer.shutdown();
+        flush();
+    }
+
+    // Past MaxSeries, new series are refused and get the shared handle of their kind. Each refused key is counted once,
+    // remembering at most MAX_REFUSED_KEYS of them, so a flood of distinct keys costs neither a series nor a key per lookup
+    private boolean refuse(String key) {
+        if (series.size() < maxSeries)
+            return false;
+        if (refused.size() < MAX_REFUSED_KEYS && refused.putIfAbsent(key, Boolean.TRUE) == null)
+            overflowed.incrementAndGet();
+        return true;
+    }
+
+    private Series addSeries(String key, Series created) {
+        Series existing = series.putIfAbsent(key, created);
+        return existing != null ? existing : created;
+    }
+
+    // Dimensions are sorted by name, so the same dimensions in any order are the same series
+    private static String key(char kind, String name, String[] dimensions) {
+        if (name == null)
+            throw new NullPointerException("name");
+        if (dimensions.length % 2 != 0)
+            throw new IllegalArgumentException("Dimensions must be name and value pairs");
+        StringBuilder key = new StringBuilder().append(kind).append(name);
+        if (dimensions.length == 0)
+            return key.toString();
+        for (Map.Entry<String, String> dimension : toMap(dimensions).entrySet())
+            key.append('\u0000').append(dimension.getKey()).append('=').append(dimension.getValue());
+        return key.toString();
+    }
+
+    private static Map<String, String> toMap(String[] dimensions) {
+        if (dimensions.length == 0)
+            return Collections.emptyMap();
+        TreeMap<String, String> map = new TreeMap<String, String>();
+        for (int i = 0; i + 1 < dimensions.length; i += 2)
+            map.put(dimensions[i], dimensions[i + 1]);
+        return map;
+    }
+
+    private static void addDouble(AtomicLong bits, double value) {
+        while (true) {
+            long current = bits.get();
+            if (bits.compareAndSet(current, Double.doubleToRawLongBits(Double.longBitsToDouble(current) + value)))
+                return;
+        }
+    }
+
+    private static void updateMin(AtomicLong bits, double value) {
+        while (true) {
+            long current = bits.get();
+            if (!(value < Double.longBitsToDouble(current)) || bits.compareAndSet(current, Double.doubleToRawLongBits(value)))
+                return;
+        }
+    }
+
+    private static void updateMax(AtomicLong bits, double value) {
+        while (true) {
+            long current = bits.get();
+            if (!(value > Double.longBitsToDouble(current)) || bits.compareAndSet(current, Double.doubleToRawLongBits(value)))
+                return;
+        }
+    }
+}
@@ -0,0 +1,221 @@
+package com.playfab.internal;
+
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.*;
+
+/**
+ * Separates calls into bulkheads, each with its own in-flight limit, queue and, optionally, its own share of the
+ * connection pool, so a burst of slow calls in one cannot hold up calls in another. Enable it with PlayFabSettings.Bulkheads.
+ *
+ * Every API family (/Admin, /Server, ...) gets a bulkhead of its own with the default limits, unless it is put in a
+ * group with addGroup. A group can also hold single endpoints, such as /Server/AuthenticateSessionTicket, which then
+ * leave their family's bulkhead; an endpoint's group wins over its family's. The generated API classes map to families
+ * as their URLs do: PlayFabMultiplayerAPI calls /Match and /MultiplayerServer, PlayFabDataAPI /File and /Object, and
+ * PlayFabEconomyAPI /Catalog; the rest use their own name.
+ *
+ * A bulkhead with maxConnections above 0 uses that many connections to each host set aside for it in the default
+ * transport's pool. Keep http.maxConnections at least as large as the most any bulkhead uses, so their sockets are kept
+ * alive between calls. The HTTP/2 transport multiplexes every call over one connection, so only the in-flight limits apply.
+ */
+public class PlayFabBulkheads {
+    private static final ThreadLocal<Bulkhead> current = new ThreadLocal<Bulkhead>();
+
+    /**
+     * The occupancy of one bulkhead
+     */
+    public static class Stats {
+        public int maxCalls;
+        public int maxConnections;
+        public int inFlight;
+        public int queued; // Calls waiting for room in the bulkhead now
+        public int maxQueued; // Most calls that have waited at once
+        public long calls;
+        public long rejected; // Calls failed locally because the queue was full
+        public long timedOut; // Calls failed locally after waiting the whole queue timeout
+    }
+
+    /**
+     * One group of calls sharing limits
+     */
+    public static class Bulkhead {
+        private final String name;
+        private final int maxCalls;
+        private final int maxQueue;
+        private final int maxConnections;
+        private final Semaphore permits;
+        private final AtomicInteger queued = new AtomicInteger();
+        private final AtomicInteger maxQueued = new AtomicInteger();
+        private final AtomicLong calls = new AtomicLong();
+        private final AtomicLong rejected = new AtomicLong();
+        private final AtomicLong timedOut = new AtomicLong();
+
+        private Bulkhead(String name, int maxCalls, int maxQueue, int maxConnections) {
+            if (maxCalls < 1)
+                throw new IllegalArgumentException("A bulkhead must allow at least one call");
+            this.name = name;
+            this.maxCalls = maxCalls;
+            this.maxQueue = Math.max(0, maxQueue);
+            this.maxConnections = Math.max(0, maxConnections);
+            this.permits = new Semaphore(maxCalls, true);
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        /**
+         * @return connections to each host set aside for the bulkhead, 0 if it shares the pool
+         */
+        public int getMaxConnections() {
+            return maxConnections;
+        }
+
+        private boolean acquire(long timeoutMilliseconds) throws InterruptedException {
+            if (!permits.tryAcquire()) {
+                int waiting = queued.incrementAndGet();
+                try {
+                    if (waiting > maxQueue) {
+                        rejected.incrementAndGet();
+                        return false;
+                    }
+                    while (true) {
+                        int most = maxQueued.get();
+                        if (waiting <= most || maxQueued.compareAndSet(most, waiting))
+                            break;
+                    }
+                    if (!permits.tryAcquire(timeoutMilliseconds, TimeUnit.MILLISECONDS)) {
+                        timedOut.incrementAndGet();
+                        return false;
+                    }
+                } finally {
+                    queued.decrementAndGet();
+                }
+            }
+            calls.incrementAndGet();
+            return true;
+        }
+
+        private Stats snapshot() {
+            Stats stats = new Stats();
+            stats.maxCalls = maxCalls;
+            stats.maxConnections = maxConnections;
+            stats.inFlight = maxCalls - permits.availablePermits();
+            stats.queued = Math.max(0, Math.min(maxQueue, queued.get()));
+            stats.maxQueued = maxQueued.get();
+            stats.calls = calls.get();
+            stats.rejected = rejected.get();
+            stats.timedOut = timedOut.get();
+            return stats;
+        }
+    }
+
+    private final long queueTimeoutMilliseconds;
+    private volatile int defaultMaxCalls = 20;
+    private volatile int defaultMaxQueue = 100;
+    private volatile int defaultMaxConnections = 0;
+    private final ConcurrentHashMap<String, Bulkhead> groups = new ConcurrentHashMap<String, Bulkhead>();
+    private final ConcurrentHashMap<String, Bulkhead> scopes = new ConcurrentHashMap<String, Bulkhead>();
+
+    /**
+     * @param queueTimeoutMilliseconds Longest a call waits for room in its bulkhead before failing
+     */
+    public PlayFabBulkheads(long queueTimeoutMilliseconds) {
+        this.queueTimeoutMilliseconds = Math.max(0, queueTimeoutMilliseconds);
+    }
+
+    /**
+     * Sets the limits of the bulkheads that API families outside any group get. Families already called keep theirs
+     * @param maxCalls Calls in flight at once
+     * @param maxQueue Calls waiting at once. Calls beyond this fail at once
+     * @param maxConnections Connections to each host set aside for the family, 0 to share the pool
+     */
+    public void setDefaultLimits(int maxCalls, int maxQueue, int maxConnections) {
+        defaultMaxCalls = maxCalls;
+        defaultMaxQueue = maxQueue;
+        defaultMaxConnections = maxConnections;
+    }
+
+    /**
+     * Puts API families and endpoints in one bulkhead. Add groups before making calls to the scopes they take over
+     * @param name Name the group is reported under
+     * @param maxCalls Calls in flight at once
+     * @param maxQueue Calls waiting at once. Calls beyond this fail at once
+     * @param maxConnections Connections to each host set aside for the group, 0 to share the pool
+     * @param scopes API families, such as /Admin, and endpoints, such as /Server/AuthenticateSessionTicket
+     */
+    public void addGroup(String name, int maxCalls, int maxQueue, int maxConnections, String... scopes) {
+        Bulkhead group = new Bulkhead(name, maxCalls, maxQueue, maxConnections);
+        groups.put(name, group);
+        for (String scope : scopes)
+            this.scopes.put(scope, group);
+    }
+
+    /**
+     * @return the bulkhead an endpoint's calls go through
+     */
+    public Bulkhead get(String endpoint) {
+        Bulkhead bulkhead = scopes.get(endpoint);
+        if (bulkhead != null)
+            return bulkhead;
+
+        String family = PlayFabHTTP.getApiFamily(endpoint);
+        bulkhead = scopes.get(family);
+        if (bulkhead == null) {
+            Bulkhead created = new Bulkhead(family, defaultMaxCalls, defaultMaxQueue, defaultMaxConnections);
+            bulkhead = scopes.putIfAbsent(family, created);
+            if (bulkhead == null) {
+                bulkhead = created;
+                groups.putIfAbsent(family, created);
+            }
+        }
+        return bulkhead;
+    }
+
+    /**
+     * Waits for room in the endpoint's bulkhead
+     * @return the bulkhead to hand to release, or null if it stayed full
+     */
+    public Bulkhead acquire(String endpoint) throws InterruptedException {
+        Bulkhead bulkhead = get(endpoint);
+        return bulkhead.acquire(queueTimeoutMilliseconds) ? bulkhead : null;
+    }
+
+    public void release(Bulkhead bulkhead) {
+        bulkhead.permits.release();
+    }
+
+    /**
+     * @return the occupancy and queue depth of each bulkhead, by group name or API family
+     */
+    public Map<String, Stats> getStats() {
+        Map<String, Stats> output = new HashMap<String, Stats>();
+        for (Map.Entry<String, Bulkhead> pair : groups.entrySet())
+            output.put(pair.getKey(), pair.getValue().snapshot());
+        return output;
+    }
+
+    /**
+     * @return the bulkhead of the call this thread is making, for the transport to pick its connections
+     */
+    public static Bulkhead current() {
+        return current.get();
+    }
+
+    /**
+     * Marks this thread as making a call in a bulkhead, until exit is called
+     * @return the bulkhead the thread was in before, to pass to exit
+     */
+    public static Bulkhead enter(Bulkhead bulkhead) {
+        Bulkhead previous = current.get();
+        current.set(bulkhead);
+        return previous;
+    }
+
+    public static void exit(Bulkhead previous) {
+        if (previous == null)
+            current.remove();
+        else
+            current.set(previous);
+    }
+}
@@ -0,0 +1,295 @@
+package com.playfab.internal;
+
+import java.io.*;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.*;
+import java.util.zip.*;
+
+import com.playfab.PlayFabSettings;
+
+/**
+ * Gzip request compression, gzip/deflate response decoding, and the per-endpoint byte counts that show what they save.
+ *
+ * Requests are only compressed when PlayFabSettings.CompressRequests is on and the body reaches CompressionThresholdBytes.
+ * Bodies of unknown size are serialized into a buffer no larger than the threshold first; a body that fits is sent as is
+ * with a fixed length, and a larger one is serialized again straight into a gzip stream, so neither is ever held whole.
+ */
+public class PlayFabCompression {
+    public static final String ACCEPT_ENCODING = "gzip, deflate";
+
+    /**
+     * Byte counts for one endpoint. Raw counts are the JSON size, wire counts what crossed the network
+     */
+    public static class Stats {
+        public long requests;
+        public long compressedRequests;
+        public long requestBytes;
+        public long requestWireBytes;
+        public long responses;
+        public long compressedResponses;
+        public long responseBytes;
+        public long responseWireBytes;
+
+        /** @return wire bytes per raw request byte, 1.0 when nothing was compressed */
+        public double getRequestRatio() {
+            return requestBytes == 0 ? 1.0 : (double)requestWireBytes / requestBytes;
+        }
+
+        /** @return wire bytes per raw response byte, 1.0 when nothing was compressed */
+        public double getResponseRatio() {
+            return responseBytes == 0 ? 1.0 : (double)responseWireBytes / responseBytes;
+        }
+    }
+
+    private static class EndpointCounters {
+        private final AtomicLong requests = new AtomicLong();
+        private final AtomicLong compressedRequests = new AtomicLong();
+        private final AtomicLong requestBytes = new AtomicLong();
+        private final AtomicLong requestWireBytes = new AtomicLong();
+        private final AtomicLong responses = new AtomicLong();
+        private final AtomicLong compressedResponses = new AtomicLong();
+        private final AtomicLong responseBytes = new AtomicLong();
+        private final AtomicLong responseWireBytes = new AtomicLong();
+    }
+
+    private final ConcurrentHashMap<String, EndpointCounters> endpoints = new ConcurrentHashMap<String, EndpointCounters>();
+
+    /**
+     * Wraps a request body, compressing it if enabled and large enough
+     * @param endpoint Api path the body is sent to, used as the stats key
+     */
+    public PlayFabTransport.RequestBody encode(String endpoint, final PlayFabTransport.RequestBody body) throws IOException {
+        final EndpointCounters counters = getCounters(endpoint);
+        counters.requests.incrementAndGet();
+        int threshold = Math.max(0, PlayFabSettings.CompressionThresholdBytes);
+
+        if (!PlayFabSettings.CompressRequests)
+            return countIdentity(body, counters);
+
+        long contentLength = body.getContentLength();
+        if (contentLength >= 0 && contentLength < threshold)
+            return countIdentity(body, counters);
+
+        if (contentLength < 0) {
+            ThresholdBuffer probe = new ThresholdBuffer(threshold);
+            try {
+                body.writeTo(probe);
+                return countIdentity(probe.toBody(), counters);
+            } catch (ThresholdExceededException e) {
+                // Too large to send uncompressed, so it is serialized again below
+            }
+        }
+
+        counters.compressedRequests.incrementAndGet();
+        return new PlayFabTransport.RequestBody() {
+            public long getContentLength() {
+                return -1;
+            }
+
+            public String getContentEncoding() {
+                return "gzip";
+            }
+
+            public void writeTo(OutputStream out) throws IOException {
+                CountingOutputStream wire = new CountingOutputStream(out);
+                GZIPOutputStream gzip = new GZIPOutputStream(wire, 8192);
+                CountingOutputStream raw = new CountingOutputStream(gzip);
+                body.writeTo(raw);
+                gzip.finish();
+                out.flush();
+                counters.requestBytes.addAndGet(raw.count);
+                counters.requestWireBytes.addAndGet(wire.count);
+            }
+        };
+    }
+
+    /**
+     * @return the response body, decoded according to its Content-Encoding. Closing it drains the underlying stream
+     * @throws ZipException if the encoding is unsupported, or the compressed data is corrupt
+     * @param endpoint Api path the response came from, used as the stats key
+     */
+    public InputStream decode(String endpoint, PlayFabTransport.Response response) throws IOException {
+        if (response.body == null)
+            return null;
+
+        EndpointCounters counters = getCounters(endpoint);
+        counters.responses.incrementAndGet();
+        String encoding = response.getHeader("Content-Encoding");
+        CountingInputStream wire = new CountingInputStream(response.body, counters.responseWireBytes);
+        InputStream decoded;
+        if (encoding == null || encoding.trim().isEmpty() || "identity".equalsIgnoreCase(encoding.trim())) {
+            // Uncompressed, so every byte counts as both raw and wire
+            return new CountingInputStream(wire, counters.responseBytes);
+        } else if ("gzip".equalsIgnoreCase(encoding.trim())) {
+            decoded = new GZIPInputStream(wire, 8192);
+        } else if ("deflate".equalsIgnoreCase(encoding.trim())) {
+            decoded = new InflaterInputStream(wire);
+        } else {
+            throw new ZipException("Unsupported response Content-Encoding: " + encoding);
+        }
+        counters.compressedResponses.incrementAndGet();
+        return new DrainingInputStream(new CountingInputStream(decoded, counters.responseBytes), wire);
+    }
+
+    /**
+     * @return byte counts for each endpoint called since startup
+     */
+    public Map<String, Stats> getStats() {
+        Map<String, Stats> output = new HashMap<String, Stats>();
+        for (Map.Entry<String, EndpointCounters> pair : endpoints.entrySet()) {
+            EndpointCounters counters = pair.getValue();
+            Stats stats = new Stats();
+            stats.requests = counters.requests.get();
+            stats.compressedRequests = counters.compressedRequests.get();
+            stats.requestBytes = counters.requestBytes.get();
+            stats.requestWireBytes = counters.requestWireBytes.get();
+            stats.responses = counters.responses.get();
+            stats.compressedResponses = counters.compressedResponses.get();
+            stats.responseBytes = counters.responseBytes.get();
+            stats.responseWireBytes = counters.responseWireBytes.get();
+            output.put(pair.getKey(), stats);
+        }
+        return output;
+    }
+
+    private EndpointCounters getCounters(String endpoint) {
+        EndpointCounters counters = endpoints.get(endpoint);
+        if (counters == null) {
+            EndpointCounters created = new EndpointCounters();
+            counters = endpoints.putIfAbsent(endpoint, created);
+            if (counters == null)
+                counters = created;
+        }
+        return counters;
+    }
+
+    private static PlayFabTransport.RequestBody countIdentity(final PlayFabTransport.RequestBody body, final EndpointCounters counters) {
+        return new PlayFabTransport.RequestBody() {
+            public long getContentLength() {
+                return body.getContentLength();
+            }
+
+            public String getContentEncoding() {
+                return body.getContentEncoding();
+            }
+
+            public void writeTo(OutputStream out) throws IOException {
+                CountingOutputStream counted = new CountingOutputStream(out);
+                body.writeTo(counted);
+                counters.requestBytes.addAndGet(counted.count);
+                counters.requestWireBytes.addAndGet(counted.count);
+            }
+        };
+    }
+
+    private static class ThresholdBuffer extends ByteArrayOutputStream {
+        private final int threshold;
+
+        private ThresholdBuffer(int threshold) {
+            super(Math.min(threshold, 1024));
+            this.threshold = threshold;
+        }
+
+        @Override
+        public void write(int b) {
+            if (count + 1 > threshold)
+                throw new ThresholdExceededException();
+            super.write(b);
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) {
+            if (count + len > threshold)
+                throw new ThresholdExceededException();
+            super.write(b, off, len);
+        }
+
+        private PlayFabTransport.RequestBody toBody() {
+            final byte[] bytes = toByteArray();
+            return new PlayFabTransport.RequestBody() {
+                public long getContentLength() {
+                    return bytes.length;
+                }
+
+                public String getContentEncoding() {
+                    return null;
+                }
+
+                public void writeTo(OutputStream out) throws IOException {
+                    out.write(bytes);
+                    out.flush();
+                }
+            };
+        }
+    }
+
+    // Unchecked, so it passes through the serializer untouched and abandons a pass that is too large to send uncompressed
+    private static class ThresholdExceededException extends RuntimeException {
+    }
+
+    private static class CountingOutputStream extends FilterOutputStream {
+        private long count = 0;
+
+        private CountingOutputStream(OutputStream out) {
+            super(out);
+        }
+
+        @Override
+        public void write(int b) throws IOException {
+            out.write(b);
+            count++;
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) throws IOException {
+            out.write(b, off, len);
+            count += len;
+        }
+    }
+
+    private static class CountingInputStream extends FilterInputStream {
+        private final AtomicLong counter;
+
+        private CountingInputStream(InputStream in, AtomicLong counter) {
+            super(in);
+            this.counter = counter;
+        }
+
+        @Override
+        public int read() throws IOException {
+            int value = in.read();
+            if (value != -1)
+                counter.incrementAndGet();
+            return value;
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) throws IOException {
+            int count = in.read(b, off, len);
+            if (count > 0)
+                counter.addAndGet(count);
+            return count;
+        }
+    }
+
+    // The decoder can stop at the end of the compressed data, so the wire stream is read to its end before closing
+    private static class DrainingInputStream extends FilterInputStream {
+        private final InputStream wire;
+
+        private DrainingInputStream(InputStream in, InputStream wire) {
+            super(in);
+            this.wire = wire;
+        }
+
+        @Override
+        public void close() throws IOException {
+            try {
+                byte[] rest = new byte[256];
+                while (wire.read(rest) != -1) { }
+            } finally {
+                super.close();
+            }
+        }
+    }
+}
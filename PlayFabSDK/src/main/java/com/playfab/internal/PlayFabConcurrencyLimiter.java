@@ -0,0 +1,211 @@
+package com.playfab.internal;
+
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.*;
+import java.util.concurrent.locks.*;
+
+import com.playfab.PlayFabSettings;
+
+/**
+ * Limits the calls in flight to each endpoint, finding the limit from the latency of the calls rather than a fixed pool size.
+ *
+ * The limit follows TCP Vegas. The lowest round trip seen stands for the endpoint's unloaded latency, and each completed
+ * call estimates how many calls are queued in the service: limit * (1 - unloaded / measured). Fewer than alpha queued
+ * raises the limit, more than beta lowers it, and alpha and beta grow with log10 of the limit so large limits move in
+ * proportion. A call failing with a throttling or unavailability error lowers it as well. The limit only rises while
+ * calls are actually using at least half of it, so an idle endpoint does not build up a limit it never tested.
+ *
+ * Calls over the limit wait in arrival order for up to AdaptiveConcurrencyQueueTimeoutMilliseconds, and no more than
+ * AdaptiveConcurrencyMaxQueue of them wait at once. The rest are rejected, so a slow endpoint cannot collect threads.
+ */
+public class PlayFabConcurrencyLimiter {
+    // The unloaded latency is measured again after this many samples, in case the route to the service has changed
+    private static final int MIN_RTT_SAMPLES = 1000;
+
+    /**
+     * The limit and latency of one endpoint
+     */
+    public static class Stats {
+        public int limit;
+        public int inFlight;
+        public int queued;
+        public double minRttMilliseconds; // Lowest round trip seen recently, taken as the unloaded latency
+        public double rttMilliseconds; // Smoothed recent round trip
+        public long calls;
+        public long rejected; // Calls failed locally because the queue was full
+        public long timedOut; // Calls failed locally after waiting the whole queue timeout
+    }
+
+    /**
+     * Leave to send one call, handed back with its outcome
+     */
+    public static class Permit {
+        private final Endpoint endpoint;
+        private final long startNanos;
+
+        private Permit(Endpoint endpoint) {
+            this.endpoint = endpoint;
+            this.startNanos = System.nanoTime();
+        }
+    }
+
+    private static class Endpoint {
+        private final ReentrantLock lock = new ReentrantLock(true);
+        private final Condition available = lock.newCondition();
+        private double limit;
+        private int inFlight;
+        private int queued;
+        private long minRttNanos = Long.MAX_VALUE;
+        private int minRttSamples;
+        private double rttNanos;
+
+        private final AtomicLong calls = new AtomicLong();
+        private final AtomicLong rejected = new AtomicLong();
+        private final AtomicLong timedOut = new AtomicLong();
+
+        private Endpoint(double limit) {
+            this.limit = limit;
+        }
+    }
+
+    private final ConcurrentHashMap<String, Endpoint> endpoints = new ConcurrentHashMap<String, Endpoint>();
+
+    /**
+     * Waits, if need be, for the endpoint to have room for another call
+     * @param endpoint Api path of the call, such as /Server/GetUserData
+     * @return leave to send the call, or null if the queue was full or the wait timed out
+     */
+    public Permit acquire(String endpoint) throws InterruptedException {
+        Endpoint state = getEndpoint(endpoint);
+        long timeoutNanos = TimeUnit.MILLISECONDS.toNanos(Math.max(0, PlayFabSettings.AdaptiveConcurrencyQueueTimeoutMilliseconds));
+        state.lock.lockInterruptibly();
+        try {
+            if (state.inFlight >= (int)state.limit) {
+                if (state.queued >= PlayFabSettings.AdaptiveConcurrencyMaxQueue) {
+                    state.rejected.incrementAndGet();
+                    return null;
+                }
+                state.queued++;
+                try {
+                    while (state.inFlight >= (int)state.limit) {
+                        if (timeoutNanos <= 0) {
+                            state.timedOut.incrementAndGet();
+                            return null;
+                        }
+                        timeoutNanos = state.available.awaitNanos(timeoutNanos);
+                    }
+                } finally {
+                    state.queued--;
+                }
+            }
+            state.inFlight++;
+            state.calls.incrementAndGet();
+            return new Permit(state);
+        } finally {
+            state.lock.unlock();
+        }
+    }
+
+    /**
+     * Records the outcome of a call, adjusts the limit, and lets a waiting call go
+     * @param overloaded true if the call failed in a way that says the service has too much to do
+     */
+    public void release(Permit permit, boolean overloaded) {
+        long rtt = System.nanoTime() - permit.startNanos;
+        Endpoint state = permit.endpoint;
+        state.lock.lock();
+        try {
+            int inFlight = state.inFlight--;
+            double before = state.limit;
+            if (overloaded) {
+                state.limit -= log10(state.limit);
+            } else {
+                if (state.minRttSamples++ >= MIN_RTT_SAMPLES) {
+                    state.minRttSamples = 0;
+                    state.minRttNanos = Long.MAX_VALUE;
+                }
+                state.minRttNanos = Math.min(state.minRttNanos, Math.max(1, rtt));
+                state.rttNanos = state.rttNanos == 0 ? rtt : state.rttNanos * 0.9 + rtt * 0.1;
+
+                double step = log10(state.limit);
+                double queueSize = Math.ceil(state.limit * (1 - state.minRttNanos / (double)Math.max(1, rtt)));
+                if (queueSize > 6 * step)
+                    state.limit -= step;
+                else if (queueSize < 3 * step && inFlight * 2 >= state.limit)
+                    state.limit += step;
+            }
+            state.limit = Math.max(Math.max(1, PlayFabSettings.AdaptiveConcurrencyMinLimit),
+                Math.min(Math.max(1, PlayFabSettings.AdaptiveConcurrencyMaxLimit), state.limit));
+
+            if ((int)state.limit > (int)before)
+                state.available.signalAll();
+            else if (state.inFlight < (int)state.limit)
+                state.available.signal();
+        } finally {
+            state.lock.unlock();
+        }
+    }
+
+    /**
+     * Gives back a permit whose call was never sent, without adjusting the limit
+     */
+    public void cancel(Permit permit) {
+        Endpoint state = permit.endpoint;
+        state.lock.lock();
+        try {
+            state.inFlight--;
+            state.available.signal();
+        } finally {
+            state.lock.unlock();
+        }
+    }
+
+    /**
+     * @return the limit and latency of each endpoint
+     */
+    public Map<String, Stats> getStats() {
+        Map<String, Stats> output = new HashMap<String, Stats>();
+        for (Map.Entry<String, Endpoint> pair : endpoints.entrySet()) {
+            Endpoint state = pair.getValue();
+            Stats stats = new Stats();
+            state.lock.lock();
+            try {
+                stats.limit = (int)state.limit;
+                stats.inFlight = state.inFlight;
+                stats.queued = state.queued;
+                stats.minRttMilliseconds = state.minRttNanos == Long.MAX_VALUE ? 0 : state.minRttNanos / 1e6;
+                stats.rttMilliseconds = state.rttNanos / 1e6;
+            } finally {
+                state.lock.unlock();
+            }
+            stats.calls = state.calls.get();
+            stats.rejected = state.rejected.get();
+            stats.timedOut = state.timedOut.get();
+            output.put(pair.getKey(), stats);
+        }
+        return output;
+    }
+
+    /**
+     * Forgets every endpoint, so each starts again from AdaptiveConcurrencyInitialLimit
+     */
+    public void reset() {
+        endpoints.clear();
+    }
+
+    private static double log10(double limit) {
+        return Math.max(1, Math.log10(limit));
+    }
+
+    private Endpoint getEndpoint(String endpoint) {
+        Endpoint state = endpoints.get(endpoint);
+        if (state == null) {
+            Endpoint created = new Endpoint(Math.max(1, PlayFabSettings.AdaptiveConcurrencyInitialLimit));
+            state = endpoints.putIfAbsent(endpoint, created);
+            if (state == null)
+                state = created;
+        }
+        return state;
+    }
+}
@@ -0,0 +1,240 @@
+package com.playfab.internal;
+
+import java.io.*;
+import java.lang.reflect.Modifier;
+import java.lang.reflect.Type;
+import java.util.*;
+import java.util.concurrent.*;
+
+import com.google.gson.*;
+import com.google.gson.reflect.TypeToken;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
+
+import com.playfab.PlayFabSettings;
+
+/**
+ * The serialization registry shared by every API class: one Gson instance, precomputed Types, and a TypeAdapter per
+ * model class that is built on first use and then reused by every call.
+ *
+ * Each generated PlayFabXxxModels class has a generated PlayFabXxxModelsAdapters companion with streaming adapters for
+ * its models, so model fields are read and written without reflection. Setting
+ * PlayFabSettings.UseReflectiveSerialization switches to Gson's reflective adapters instead. Dates always go through
+ * PlayFabDateTypeAdapter.
+ */
+public class PlayFabJson {
+    public static final Type ERROR_DETAILS_TYPE = new TypeToken<Map<String, List<String>>>(){}.getType();
+
+    private static final Object NO_ADAPTERS = new Object();
+    private static final ConcurrentHashMap<Class<?>, Object> generatedFactories = new ConcurrentHashMap<Class<?>, Object>();
+
+    // Finds the generated adapters for a model through the name of its Models class, loading each companion class once
+    private static final TypeAdapterFactory generatedAdapters = new TypeAdapterFactory() {
+        public <T> TypeAdapter<T> create(Gson gson, TypeToken<T> type) {
+            Class<?> models = type.getRawType().getDeclaringClass();
+            if (models == null || !models.getName().startsWith("com.playfab.PlayFab") || !models.getName().endsWith("Models"))
+                return null;
+            Object factory = generatedFactories.get(models);
+            if (factory == null) {
+                factory = loadGeneratedFactory(models);
+                generatedFactories.putIfAbsent(models, factory);
+            }
+            return factory == NO_ADAPTERS ? null : ((TypeAdapterFactory) factory).create(gson, type);
+        }
+    };
+
+    private static final Gson gson = newGsonBuilder().registerTypeAdapterFactory(generatedAdapters).create();
+    private static final Gson reflectiveGson = newGsonBuilder().create();
+    private static final ConcurrentHashMap<Class<?>, TypeAdapter<?>> adapters = new ConcurrentHashMap<Class<?>, TypeAdapter<?>>();
+    private static final ConcurrentHashMap<Class<?>, TypeAdapter<?>> reflectiveAdapters = new ConcurrentHashMap<Class<?>, TypeAdapter<?>>();
+    @SuppressWarnings("unchecked")
+    private static final TypeAdapter<Map<String, List<String>>> errorDetailsAdapter = (TypeAdapter<Map<String, List<String>>>) gson.getAdapter(TypeToken.get(ERROR_DETAILS_TYPE));
+
+    private static GsonBuilder newGsonBuilder() {
+        return new GsonBuilder().registerTypeAdapter(Date.class, new PlayFabDateTypeAdapter());
+    }
+
+    private static Object loadGeneratedFactory(Class<?> models) {
+        try {
+            Class<?> companion = Class.forName(models.getName() + "Adapters", true, models.getClassLoader());
+            return companion.getField("FACTORY").get(null);
+        } catch (ClassNotFoundException e) {
+            return NO_ADAPTERS;
+        } catch (NoSuchFieldException e) {
+            return NO_ADAPTERS;
+        } catch (IllegalAccessException e) {
+            return NO_ADAPTERS;
+        }
+    }
+
+    /**
+     * @return the Gson instance all SDK serialization goes through
+     */
+    public static Gson getGson() {
+        return PlayFabSettings.UseReflectiveSerialization ? reflectiveGson : gson;
+    }
+
+    /**
+     * @return the cached adapter for a model class, building it on the first call
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> TypeAdapter<T> getAdapter(Class<T> type) {
+        boolean reflective = PlayFabSettings.UseReflectiveSerialization;
+        ConcurrentHashMap<Class<?>, TypeAdapter<?>> cache = reflective ? reflectiveAdapters : adapters;
+        TypeAdapter<?> adapter = cache.get(type);
+        if (adapter == null) {
+            adapter = (reflective ? reflectiveGson : gson).getAdapter(type);
+            TypeAdapter<?> existing = cache.putIfAbsent(type, adapter);
+            if (existing != null)
+                adapter = existing;
+        }
+        return (TypeAdapter<T>) adapter;
+    }
+
+    /**
+     * Builds the adapters for every model nested in a Models class up front, so the first call of each API pays no
+     * construction cost
+     * @param modelsClass A generated Models class, such as PlayFabServerModels.class
+     * @return the number of adapters built
+     */
+    public static int precompile(Class<?> modelsClass) {
+        int count = 0;
+        for (Class<?> model : modelsClass.getClasses()) {
+            if (model.isInterface() || model.isAnnotation() || Modifier.isAbstract(model.getModifiers()) || model.getTypeParameters().length > 0)
+                continue;
+            getAdapter(model);
+            count++;
+        }
+        return count;
+    }
+
+    /**
+     * Serializes a model with the same settings as Gson.toJson, through its cached adapter
+     */
+    @SuppressWarnings("unchecked")
+    public static void toJson(Object value, Writer out) throws IOException {
+        JsonWriter writer = getGson().newJsonWriter(out);
+        writer.setLenient(true);
+        if (value == null)
+            writer.nullValue();
+        else
+            ((TypeAdapter<Object>) getAdapter(value.getClass())).write(writer, value);
+        writer.flush();
+    }
+
+    public static <T> T fromJson(String json, Class<T> type) {
+        return getGson().fromJson(json, type);
+    }
+
+    /**
+     * Reads the errorDetails member of an error envelope
+     */
+    public static Map<String, List<String>> readErrorDetails(JsonReader reader) throws IOException {
+        return errorDetailsAdapter.read(reader);
+    }
+
+    // Value readers for the generated adapters. Each accepts the same input as the matching Gson built-in adapter
+
+    public static String readString(JsonReader in) throws IOException {
+        JsonToken token = in.peek();
+        if (token == JsonToken.NULL) {
+            in.nextNull();
+            return null;
+        }
+        if (token == JsonToken.BOOLEAN)
+            return Boolean.toString(in.nextBoolean());
+        return in.nextString();
+    }
+
+    public static Boolean readBoolean(JsonReader in) throws IOException {
+        JsonToken token = in.peek();
+        if (token == JsonToken.NULL) {
+            in.nextNull();
+            return null;
+        }
+        if (token == JsonToken.STRING)
+            return Boolean.parseBoolean(in.nextString());
+        return in.nextBoolean();
+    }
+
+    public static Integer readInteger(JsonReader in) throws IOException {
+        if (in.peek() == JsonToken.NULL) {
+            in.nextNull();
+            return null;
+        }
+        try {
+            return in.nextInt();
+        } catch (NumberFormatException e) {
+            throw new JsonSyntaxException(e);
+        }
+    }
+
+    public static Long readLong(JsonReader in) throws IOException {
+        if (in.peek() == JsonToken.NULL) {
+            in.nextNull();
+            return null;
+        }
+        try {
+            return in.nextLong();
+        } catch (NumberFormatException e) {
+            throw new JsonSyntaxException(e);
+        }
+    }
+
+    public static <E> ArrayList<E> readList(JsonReader in, TypeAdapter<E> elementAdapter) throws IOException {
+        if (in.peek() == JsonToken.NULL) {
+            in.nextNull();
+            return null;
+        }
+        ArrayList<E> list = new ArrayList<E>();
+        in.beginArray();
+        while (in.hasNext())
+            list.add(elementAdapter.read(in));
+        in.endArray();
+        return list;
+    }
+
+    /**
+     * @return the members of a JSON object in document order, rejecting duplicate names as Gson does
+     */
+    public static <V> Map<String, V> readMap(JsonReader in, TypeAdapter<V> valueAdapter) throws IOException {
+        if (in.peek() == JsonToken.NULL) {
+            in.nextNull();
+            return null;
+        }
+        Map<String, V> map = new LinkedHashMap<String, V>();
+        in.beginObject();
+        while (in.hasNext()) {
+            String key = in.nextName();
+            if (map.put(key, valueAdapter.read(in)) != null)
+                throw new JsonSyntaxException("duplicate key: " + key);
+        }
+        in.endObject();
+        return map;
+    }
+
+    public static <E> void writeList(JsonWriter out, List<E> list, TypeAdapter<E> elementAdapter) throws IOException {
+        if (list == null) {
+            out.nullValue();
+            return;
+        }
+        out.beginArray();
+        for (E element : list)
+            elementAdapter.write(out, element);
+        out.endArray();
+    }
+
+    public static <V> void writeMap(JsonWriter out, Map<String, V> map, TypeAdapter<V> valueAdapter) throws IOException {
+        if (map == null) {
+            out.nullValue();
+            return;
+        }
+        out.beginObject();
+        for (Map.Entry<String, V> entry : map.entrySet()) {
+            out.name(String.valueOf(entry.getKey()));
+            valueAdapter.write(out, entry.getValue());
+        }
+        out.endObject();
+    }
+}
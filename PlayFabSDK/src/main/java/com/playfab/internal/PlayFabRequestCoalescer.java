@@ -0,0 +1,188 @@
+package com.playfab.internal;
+
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.*;
+
+/**
+ * Lets concurrent identical calls share one round trip. Enable it with PlayFabSettings.RequestCoalescer, naming the
+ * endpoints it is safe for: reads such as /Server/GetTitleData or /Server/GetUserReadOnlyData, whose answer does not
+ * depend on who asked or how many times.
+ *
+ * Calls are identical when they go to the same endpoint with the same credentials and the same serialized request. The
+ * first makes the call, retries included; the rest wait for it and receive the same result, down to the same
+ * deserialized result object, so treat results of coalesced endpoints as read-only. Only calls in flight at the same time
+ * are joined: a call made after another completes is sent again, so nothing is served stale.
+ *
+ * The shared call runs on PlayFabExecutors.getSharedCallExecutor(), outside every caller's own call, and each caller only
+ * waits for it. Cancelling one caller therefore stops its wait without failing the others; the shared call itself is only
+ * cancelled, closing its connection, once every caller waiting for it has been cancelled.
+ */
+public class PlayFabRequestCoalescer {
+    /**
+     * Counts for one endpoint
+     */
+    public static class Stats {
+        public long calls; // Calls sent
+        public long joined; // Calls that shared another's round trip instead
+    }
+
+    /**
+     * One shared call, and the number of callers still waiting for it
+     */
+    private class Flight extends FutureTask<Object> {
+        private final String key;
+        private final PlayFabAbortScope abortScope;
+        private int waiters = 0; // Guarded by this
+        private boolean abandoned = false; // Guarded by this
+
+        private Flight(String key, final Callable<Object> call, final PlayFabAbortScope abortScope) {
+            super(new Callable<Object>() {
+                public Object call() throws Exception {
+                    abortScope.enter();
+                    try {
+                        return call.call();
+                    } finally {
+                        abortScope.exit();
+                    }
+                }
+            });
+            this.key = key;
+            this.abortScope = abortScope;
+        }
+
+        private void start() {
+            try {
+                PlayFabExecutors.getSharedCallExecutor().execute(this);
+            } catch (RejectedExecutionException e) {
+                setException(e);
+            }
+        }
+
+        /**
+         * @return false if the call has completed, since done() can run after its callers are released, or if every
+         * caller has already left and it is being cancelled
+         */
+        private synchronized boolean join() {
+            if (abandoned || isDone())
+                return false;
+            waiters++;
+            return true;
+        }
+
+        private void leave() {
+            synchronized (this) {
+                waiters--;
+                if (waiters > 0 || isDone())
+                    return;
+                abandoned = true;
+            }
+            // Aborted before the interrupt, which could otherwise let the call unregister its connection first
+            cancel(false);
+            abortScope.abort();
+            abortScope.interrupt();
+        }
+
+        @Override
+        protected void done() {
+            inFlight.remove(key, this);
+        }
+    }
+
+    private static class EndpointCounters {
+        private final AtomicLong calls = new AtomicLong();
+        private final AtomicLong joined = new AtomicLong();
+    }
+
+    private final Set<String> endpoints = Collections.newSetFromMap(new ConcurrentHashMap<String, Boolean>());
+    private final ConcurrentHashMap<String, Flight> inFlight = new ConcurrentHashMap<String, Flight>();
+    private final ConcurrentHashMap<String, EndpointCounters> counters = new ConcurrentHashMap<String, EndpointCounters>();
+
+    /**
+     * @param endpoints Endpoints safe to coalesce, such as /Server/GetTitleData
+     */
+    public PlayFabRequestCoalescer(String... endpoints) {
+        for (String endpoint : endpoints)
+            addEndpoint(endpoint);
+    }
+
+    public void addEndpoint(String endpoint) {
+        endpoints.add(endpoint);
+    }
+
+    public void removeEndpoint(String endpoint) {
+        endpoints.remove(endpoint);
+    }
+
+    /**
+     * @return true if calls to the endpoint are coalesced
+     */
+    public boolean covers(String endpoint) {
+        return endpoints.contains(endpoint);
+    }
+
+    /**
+     * Makes the call, or waits for an identical one already in flight and returns its result
+     * @param endpoint The api path of the call
+     * @param identity Everything besides the endpoint that makes two calls the same: the credentials and serialized request
+     * @throws InterruptedException if this caller is interrupted or cancelled while waiting; the other callers keep waiting
+     */
+    public Object call(String endpoint, String identity, Callable<Object> call) throws Exception {
+        EndpointCounters count = counters(endpoint);
+        String key = endpoint + '\n' + identity;
+        while (true) {
+            Flight created = new Flight(key, call, new PlayFabAbortScope());
+            created.join();
+            Flight flight = inFlight.putIfAbsent(key, created);
+            if (flight == null) {
+                count.calls.incrementAndGet();
+                created.start();
+                return await(created);
+            }
+            if (flight.join()) {
+                count.joined.incrementAndGet();
+                return await(flight);
+            }
+            // That one has completed, or every caller of it has been cancelled: start afresh rather than share it
+            inFlight.remove(key, flight);
+        }
+    }
+
+    /**
+     * @return the calls sent and joined for each endpoint coalesced so far
+     */
+    public Map<String, Stats> getStats() {
+        Map<String, Stats> output = new HashMap<String, Stats>();
+        for (Map.Entry<String, EndpointCounters> pair : counters.entrySet()) {
+            Stats stats = new Stats();
+            stats.calls = pair.getValue().calls.get();
+            stats.joined = pair.getValue().joined.get();
+            output.put(pair.getKey(), stats);
+        }
+        return output;
+    }
+
+    private EndpointCounters counters(String endpoint) {
+        EndpointCounters count = counters.get(endpoint);
+        if (count == null) {
+            EndpointCounters created = new EndpointCounters();
+            count = counters.putIfAbsent(endpoint, created);
+            if (count == null)
+                count = created;
+        }
+        return count;
+    }
+
+    private static Object await(Flight flight) throws Exception {
+        try {
+            return flight.get();
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof Exception)
+                throw (Exception) cause;
+            throw e;
+        } finally {
+            flight.leave();
+        }
+    }
+}
@@ -0,0 +1,469 @@
+package com.playfab.internal;
+
+import java.io.*;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.*;
+import java.util.concurrent.locks.ReentrantLock;
+
+import com.playfab.PlayFabErrors.PlayFabError;
+import com.playfab.PlayFabErrors.PlayFabJsonSuccess;
+
+/**
+ * Answers repeated reads of rarely changing data, such as /Server/GetTitleData or /Client/GetCatalogItems, from memory.
+ * Enable it with PlayFabSettings.ResponseCache, giving each endpoint to cache a Policy.
+ *
+ * A response is cached under its full url, credentials and serialized request, so callers only ever see answers to
+ * exactly the call they made. Errors are never cached. Results are shared between callers, so treat them as read-only.
+ * Misses of one key in flight together make one call, run apart from every caller, so cancelling one of them does not
+ * fail the others. With RefreshAheadMilliseconds set, a hit on an entry that close to expiry reloads it in the
+ * background while the cached response is still served, so hot keys never miss. Any caller's loader can do that reload,
+ * since the key pins down the url, credentials and body it posts.
+ *
+ * Each endpoint's entries are bounded by MaxEntries and, optionally, MaxBytes of their results' JSON. Eviction follows
+ * W-TinyLFU: new entries enter a small LRU window, and one leaving it only displaces the least recently used entry of
+ * the main space if a count-min sketch of recent accesses says it is used more often. A burst of one-off reads therefore
+ * cannot flush the entries that are read all the time. Every lookup is counted, misses included, so a key that keeps
+ * being evicted and asked for again builds up the frequency to be admitted. Hits never wait for the endpoint's lock:
+ * under contention they are buffered and replayed by the next thread to take it, and only hits beyond the buffer's
+ * size are dropped, which keeps the frequencies approximate.
+ */
+public class PlayFabResponseCache {
+    /**
+     * How one endpoint's responses are cached
+     */
+    public static class Policy {
+        public long TimeToLiveMilliseconds = 60000; // How long a response is served before the call is made again
+        public int MaxEntries = 1000; // Responses kept at once
+        public long MaxBytes = 0; // Most JSON characters of results kept at once. 0 bounds by MaxEntries only
+        public long RefreshAheadMilliseconds = 0; // Hits this close to expiry reload the response in the background. 0 waits for expiry
+    }
+
+    /**
+     * Counts for one endpoint
+     */
+    public static class Stats {
+        public int entries;
+        public long bytes;
+        public long hits;
+        public long misses;
+        public long evictions; // Entries dropped to stay within MaxEntries or MaxBytes
+        public long expirations; // Entries found expired
+        public long refreshes; // Background reloads ahead of expiry
+    }
+
+    private static final int WINDOW = 0;
+    private static final int PROBATION = 1;
+    private static final int PROTECTED = 2;
+    private static final int READ_BUFFER_SIZE = 64;
+
+    private static class Node {
+        private final String key;
+        private final Object value;
+        private final long weight;
+        private final long loadedAt;
+        private final AtomicBoolean refreshing = new AtomicBoolean();
+        private int queue = WINDOW; // Guarded by the segment lock
+
+        private Node(String key, Object value, long weight, long loadedAt) {
+            this.key = key;
+            this.value = value;
+            this.weight = weight;
+            this.loadedAt = loadedAt;
+        }
+    }
+
+    /**
+     * Approximate recent access counts: four rows of 4-bit counters, halved once as many accesses as ten times the
+     * capacity have been counted, so the counts follow what is popular now
+     */
+    private static class FrequencySketch {
+        private static final int[] SEEDS = { 0x97cb3127, 0xb3c8d5f1, 0x9e3779b9, 0x85ebca6b };
+        private final byte[][] rows = new byte[SEEDS.length][];
+        private final int mask;
+        private final int sampleSize;
+        private int additions = 0;
+
+        private FrequencySketch(int capacity) {
+            int width = Integer.highestOneBit(Math.max(16, capacity - 1) << 1);
+            for (int i = 0; i < rows.length; i++)
+                rows[i] = new byte[width];
+            mask = width - 1;
+            sampleSize = Math.max(10, 10 * capacity);
+        }
+
+        private void increment(String key) {
+            int hash = key.hashCode();
+            boolean added = false;
+            for (int i = 0; i < rows.length; i++) {
+                int index = index(hash, i);
+                if (rows[i][index] < 15) {
+                    rows[i][index]++;
+                    added = true;
+                }
+            }
+            if (added && ++additions >= sampleSize) {
+                additions /= 2;
+                for (byte[] row : rows)
+                    for (int j = 0; j < row.length; j++)
+                        row[j] >>= 1;
+            }
+        }
+
+        private int frequency(String key) {
+            int hash = key.hashCode();
+            int frequency = 15;
+            for (int i = 0; i < rows.length; i++)
+                frequency = Math.min(frequency, rows[i][index(hash, i)]);
+            return frequency;
+        }
+
+        private int index(int hash, int row) {
+            int h = hash * SEEDS[row];
+            return (h ^ (h >>> 16)) & mask;
+        }
+    }
+
+    private class Segment {
+        private final String endpoint;
+        private final long timeToLiveNanos;
+        private final long refreshAheadNanos;
+        private final int maxEntries;
+        private final long maxBytes;
+        private final int windowMax;
+        private final int protectedMax;
+        private final ConcurrentHashMap<String, Node> data = new ConcurrentHashMap<String, Node>();
+        private final ReentrantLock lock = new ReentrantLock();
+        // Access ordered, least recently used first. Guarded by lock, as are weight and sketch
+        private final LinkedHashMap<String, Node> window = new LinkedHashMap<String, Node>(16, 0.75f, true);
+        private final LinkedHashMap<String, Node> probation = new LinkedHashMap<String, Node>(16, 0.75f, true);
+        private final LinkedHashMap<String, Node> protectedQueue = new LinkedHashMap<String, Node>(16, 0.75f, true);
+        private final FrequencySketch sketch;
+        private long weight = 0;
+        // Bumped by clear(), so a load that started before is not cached after it. Written under lock
+        private volatile long generation = 0;
+        // Hits that found the lock taken, waiting to be replayed. Lossy: a full buffer overwrites its oldest slots
+        private final AtomicReferenceArray<Node> readBuffer = new AtomicReferenceArray<Node>(READ_BUFFER_SIZE);
+        private final AtomicInteger readBufferIndex = new AtomicInteger();
+
+        private final AtomicLong hits = new AtomicLong();
+        private final AtomicLong misses = new AtomicLong();
+        private final AtomicLong evictions = new AtomicLong();
+        private final AtomicLong expirations = new AtomicLong();
+        private final AtomicLong refreshes = new AtomicLong();
+
+        private Segment(String endpoint, Policy policy) {
+            this.endpoint = endpoint;
+            timeToLiveNanos = TimeUnit.MILLISECONDS.toNanos(Math.max(0, policy.TimeToLiveMilliseconds));
+            refreshAheadNanos = TimeUnit.MILLISECONDS.toNanos(Math.max(0, Math.min(policy.RefreshAheadMilliseconds, policy.TimeToLiveMilliseconds)));
+            maxEntries = Math.max(1, policy.MaxEntries);
+            maxBytes = Math.max(0, policy.MaxBytes);
+            windowMax = Math.max(1, maxEntries / 100);
+            protectedMax = Math.max(0, (maxEntries - windowMax) * 4 / 5);
+            sketch = new FrequencySketch(maxEntries);
+        }
+
+        private Object get(final String key, final Callable<Object> loader) throws Exception {
+            Node node = data.get(key);
+            if (node != null) {
+                long age = System.nanoTime() - node.loadedAt;
+                if (age < timeToLiveNanos) {
+                    hits.incrementAndGet();
+                    recordHit(node);
+                    if (refreshAheadNanos > 0 && age >= timeToLiveNanos - refreshAheadNanos && node.refreshing.compareAndSet(false, true))
+                        refreshLater(node, loader);
+                    return node.value;
+                }
+                expirations.incrementAndGet();
+                remove(node);
+            }
+
+            misses.incrementAndGet();
+            recordMiss(key);
+            return load(key, loader);
+        }
+
+        private void recordHit(Node node) {
+            if (lock.tryLock()) {
+                try {
+                    drainReads();
+                    onAccess(node);
+                } finally {
+                    lock.unlock();
+                }
+            } else {
+                readBuffer.set(readBufferIndex.getAndIncrement() & (READ_BUFFER_SIZE - 1), node);
+            }
+        }
+
+        private void recordMiss(String key) {
+            lock.lock();
+            try {
+                drainReads();
+                sketch.increment(key);
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        private Object load(String key, Callable<Object> loader) throws Exception {
+            // Loads only share a call within a generation, so none started before an invalidation answers a later miss
+            long started = generation;
+            Object value = loads.call(endpoint, started + "\n" + key, loader);
+            if (!(value instanceof PlayFabError) && timeToLiveNanos > 0)
+                put(new Node(key, value, key.length() + weigh(value), System.nanoTime()), started);
+            return value;
+        }
+
+        private void refreshLater(final Node node, final Callable<Object> loader) {
+            refreshes.incrementAndGet();
+            try {
+                PlayFabExecutors.getSharedCallExecutor().execute(new Runnable() {
+                    public void run() {
+                        try {
+                            load(node.key, loader);
+                        } catch (Exception e) {
+                            // The cached response stays until it expires, and the next hit tries again
+                        } finally {
+                            node.refreshing.set(false);
+                        }
+                    }
+                });
+            } catch (RejectedExecutionException e) {
+                node.refreshing.set(false);
+            }
+        }
+
+        /**
+         * Caches a loaded response, unless the segment has been cleared since its load started
+         */
+        private void put(Node node, long started) {
+            lock.lock();
+            try {
+                if (generation != started)
+                    return;
+                drainReads();
+                Node replaced = data.put(node.key, node);
+                if (replaced != null)
+                    unlink(replaced);
+                window.put(node.key, node);
+                weight += node.weight;
+                evict();
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        private void remove(Node node) {
+            lock.lock();
+            try {
+                if (data.remove(node.key, node))
+                    unlink(node);
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        private void clear() {
+            lock.lock();
+            try {
+                generation++;
+                data.clear();
+                window.clear();
+                probation.clear();
+                protectedQueue.clear();
+                weight = 0;
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        // Lock held
+        private void drainReads() {
+            for (int i = 0; i < READ_BUFFER_SIZE; i++) {
+                Node node = readBuffer.getAndSet(i, null);
+                if (node != null)
+                    onAccess(node);
+            }
+        }
+
+        // Lock held
+        private void onAccess(Node node) {
+            sketch.increment(node.key);
+            if (data.get(node.key) != node)
+                return;
+            switch (node.queue) {
+                case WINDOW:
+                    window.get(node.key);
+                    break;
+                case PROBATION:
+                    probation.remove(node.key);
+                    node.queue = PROTECTED;
+                    protectedQueue.put(node.key, node);
+                    while (protectedQueue.size() > protectedMax) {
+                        Node demoted = eldest(protectedQueue);
+                        protectedQueue.remove(demoted.key);
+                        demoted.queue = PROBATION;
+                        probation.put(demoted.key, demoted);
+                    }
+                    break;
+                case PROTECTED:
+                    protectedQueue.get(node.key);
+                    break;
+            }
+        }
+
+        // Lock held. Entries leaving the window join probation. While the segment is over its bounds, the latest of them
+        // competes with the eldest probation entry, and whichever the sketch has seen less often goes
+        private void evict() {
+            Node candidate = null;
+            while (window.size() > windowMax) {
+                candidate = eldest(window);
+                window.remove(candidate.key);
+                candidate.queue = PROBATION;
+                probation.put(candidate.key, candidate);
+            }
+            while (data.size() > maxEntries || (maxBytes > 0 && weight > maxBytes)) {
+                Node victim;
+                if (!probation.isEmpty()) {
+                    victim = eldest(probation);
+                    if (candidate != null && candidate != victim && probation.containsKey(candidate.key)
+                        && sketch.frequency(candidate.key) <= sketch.frequency(victim.key))
+                        victim = candidate;
+                    if (victim == candidate)
+                        candidate = null;
+                } else if (!protectedQueue.isEmpty()) {
+                    victim = eldest(protectedQueue);
+                } else if (!window.isEmpty()) {
+                    victim = eldest(window);
+                } else {
+                    break;
+                }
+                data.remove(victim.key, victim);
+                unlink(victim);
+                evictions.incrementAndGet();
+            }
+        }
+
+        // Lock held
+        private void unlink(Node node) {
+            LinkedHashMap<String, Node> queue = node.queue == WINDOW ? window : node.queue == PROBATION ? probation : protectedQueue;
+            if (queue.remove(node.key) != null)
+                weight -= node.weight;
+        }
+
+        private Stats snapshot() {
+            Stats stats = new Stats();
+            lock.lock();
+            try {
+                stats.entries = data.size();
+                stats.bytes = weight;
+            } finally {
+                lock.unlock();
+            }
+            stats.hits = hits.get();
+            stats.misses = misses.get();
+            stats.evictions = evictions.get();
+            stats.expirations = expirations.get();
+            stats.refreshes = refreshes.get();
+            return stats;
+        }
+    }
+
+    private final ConcurrentHashMap<String, Segment> segments = new ConcurrentHashMap<String, Segment>();
+    private final PlayFabRequestCoalescer loads = new PlayFabRequestCoalescer();
+
+    /**
+     * Caches an endpoint's responses, replacing any policy and entries it had
+     * @param endpoint An api path, such as /Server/GetTitleData
+     */
+    public void setPolicy(String endpoint, Policy policy) {
+        segments.put(endpoint, new Segment(endpoint, policy));
+    }
+
+    public void removePolicy(String endpoint) {
+        segments.remove(endpoint);
+    }
+
+    /**
+     * @return true if the endpoint's responses are cached
+     */
+    public boolean covers(String endpoint) {
+        return segments.containsKey(endpoint);
+    }
+
+    /**
+     * Returns the cached response to a call, or makes the call and caches its response
+     * @param identity Everything that makes two calls the same: the url, credentials and serialized request
+     * @param loader Makes the call, on a miss or a refresh
+     */
+    public Object get(String endpoint, String identity, Callable<Object> loader) throws Exception {
+        Segment segment = segments.get(endpoint);
+        if (segment == null)
+            return loader.call();
+        return segment.get(identity, loader);
+    }
+
+    /**
+     * Drops an endpoint's cached responses, such as after changing the title data it returns. Responses to calls still in
+     * flight are not cached either, as they may predate the change
+     */
+    public void invalidate(String endpoint) {
+        Segment segment = segments.get(endpoint);
+        if (segment != null)
+            segment.clear();
+    }
+
+    public void clear() {
+        for (Segment segment : segments.values())
+            segment.clear();
+    }
+
+    /**
+     * @return the size and hit, miss and eviction counts of each cached endpoint
+     */
+    public Map<String, Stats> getStats() {
+        Map<String, Stats> output = new HashMap<String, Stats>();
+        for (Map.Entry<String, Segment> pair : segments.entrySet())
+            output.put(pair.getKey(), pair.getValue().snapshot());
+        return output;
+    }
+
+    private static <K, V> V eldest(LinkedHashMap<K, V> queue) {
+        return queue.values().iterator().next();
+    }
+
+    // The JSON length of a result, counted without building the string
+    private static long weigh(Object value) {
+        if (value instanceof String)
+            return ((String) value).length();
+        if (!(value instanceof PlayFabJsonSuccess))
+            return 0;
+        final long[] count = new long[1];
+        Writer counter = new Writer() {
+            public void write(char[] buffer, int offset, int length) {
+                count[0] += length;
+            }
+
+            public void write(String text, int offset, int length) {
+                count[0] += length;
+            }
+
+            public void write(int c) {
+                count[0]++;
+            }
+
+            public void flush() {
+            }
+
+            public void close() {
+            }
+        };
+        try {
+            PlayFabJson.toJson(((PlayFabJsonSuccess<?>) value).data, counter);
+        } catch (IOException e) {
+            // Not possible writing to a counter
+        }
+        return count[0];
+    }
+}
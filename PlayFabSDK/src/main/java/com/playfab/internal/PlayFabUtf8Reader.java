@@ -0,0 +1,125 @@
+package com.playfab.internal;
+
+import java.io.*;
+
+/**
+ * A UTF-8 Reader with a small buffer, for parsing one response body straight from a connection.
+ *
+ * InputStreamReader allocates an 8KB decoder buffer per instance. This reader decodes from a 1KB byte buffer instead.
+ * Malformed or truncated sequences decode to U+FFFD, as InputStreamReader does. Closing closes the underlying stream.
+ */
+public class PlayFabUtf8Reader extends Reader {
+    private static final char REPLACEMENT = '\uFFFD';
+
+    private final InputStream in;
+    private final byte[] buffer = new byte[1024];
+    private int pos = 0;
+    private int limit = 0;
+    private char lowSurrogate = 0; // Second half of a supplementary character that did not fit the last read
+    private boolean eof = false;
+
+    public PlayFabUtf8Reader(InputStream in) {
+        this.in = in;
+    }
+
+    @Override
+    public int read(char[] cbuf, int off, int len) throws IOException {
+        if (len == 0)
+            return 0;
+
+        int n = 0;
+        if (lowSurrogate != 0) {
+            cbuf[off + n++] = lowSurrogate;
+            lowSurrogate = 0;
+        }
+
+        while (n < len) {
+            if (pos >= limit) {
+                // Return what is decoded rather than block for more
+                if (n > 0 || !fill(1))
+                    break;
+            }
+
+            int b = buffer[pos] & 0xFF;
+            if (b < 0x80) {
+                cbuf[off + n++] = (char) b;
+                pos++;
+                continue;
+            }
+
+            int extra = b >= 0xF0 ? 3 : b >= 0xE0 ? 2 : b >= 0xC2 ? 1 : -1;
+            if (extra < 0 || b > 0xF4) {
+                cbuf[off + n++] = REPLACEMENT;
+                pos++;
+                continue;
+            }
+            if (limit - pos <= extra && !fill(extra + 1)) {
+                // Truncated by the end of the stream
+                cbuf[off + n++] = REPLACEMENT;
+                pos++;
+                continue;
+            }
+
+            int codePoint = b & (0x3F >> extra);
+            int i = 1;
+            for (; i <= extra; i++) {
+                int next = buffer[pos + i] & 0xFF;
+                if ((next & 0xC0) != 0x80)
+                    break;
+                codePoint = (codePoint << 6) | (next & 0x3F);
+            }
+            if (i <= extra || !isValid(codePoint, extra)) {
+                cbuf[off + n++] = REPLACEMENT;
+                pos += i;
+                continue;
+            }
+            pos += extra + 1;
+
+            if (codePoint < 0x10000) {
+                cbuf[off + n++] = (char) codePoint;
+            } else {
+                cbuf[off + n++] = Character.highSurrogate(codePoint);
+                if (n < len)
+                    cbuf[off + n++] = Character.lowSurrogate(codePoint);
+                else
+                    lowSurrogate = Character.lowSurrogate(codePoint);
+            }
+        }
+
+        return n == 0 ? -1 : n;
+    }
+
+    // Rejects overlong encodings, surrogate code points and values above U+10FFFF
+    private static boolean isValid(int codePoint, int extra) {
+        switch (extra) {
+            case 1: return codePoint >= 0x80;
+            case 2: return codePoint >= 0x800 && (codePoint < 0xD800 || codePoint > 0xDFFF);
+            default: return codePoint >= 0x10000 && codePoint <= 0x10FFFF;
+        }
+    }
+
+    /**
+     * Reads until at least count bytes are buffered, moving the unread bytes to the front first
+     * @return false if the stream ended first
+     */
+    private boolean fill(int count) throws IOException {
+        if (pos > 0) {
+            System.arraycopy(buffer, pos, buffer, 0, limit - pos);
+            limit -= pos;
+            pos = 0;
+        }
+        while (limit < count && !eof) {
+            int read = in.read(buffer, limit, buffer.length - limit);
+            if (read == -1)
+                eof = true;
+            else
+                limit += read;
+        }
+        return limit >= count;
+    }
+
+    @Override
+    public void close() throws IOException {
+        in.close();
+    }
+}
@@ -0,0 +1,106 @@
+package com.playfab.internal;
+
+import java.io.*;
+
+/**
+ * A UTF-8 Writer with a small buffer, for serializing one request body straight onto a connection.
+ *
+ * OutputStreamWriter, usually behind a BufferedWriter, allocates around 24KB of buffers per instance, which outweighs a
+ * typical request body. This writer encodes chars directly into a 1KB byte buffer instead. Unpaired surrogates are
+ * written as '?', as OutputStreamWriter does. Closing flushes but leaves the underlying stream open.
+ */
+public class PlayFabUtf8Writer extends Writer {
+    private final OutputStream out;
+    private final byte[] buffer = new byte[1024];
+    private int count = 0;
+    private char highSurrogate = 0;
+
+    public PlayFabUtf8Writer(OutputStream out) {
+        this.out = out;
+    }
+
+    @Override
+    public void write(int c) throws IOException {
+        writeChar((char) c);
+    }
+
+    @Override
+    public void write(char[] cbuf, int off, int len) throws IOException {
+        for (int i = off, end = off + len; i < end; i++) {
+            char c = cbuf[i];
+            if (c < 0x80 && highSurrogate == 0 && count < buffer.length)
+                buffer[count++] = (byte) c;
+            else
+                writeChar(c);
+        }
+    }
+
+    @Override
+    public void write(String str, int off, int len) throws IOException {
+        for (int i = off, end = off + len; i < end; i++) {
+            char c = str.charAt(i);
+            if (c < 0x80 && highSurrogate == 0 && count < buffer.length)
+                buffer[count++] = (byte) c;
+            else
+                writeChar(c);
+        }
+    }
+
+    private void writeChar(char c) throws IOException {
+        if (count > buffer.length - 4)
+            flushBuffer();
+
+        if (highSurrogate != 0) {
+            char high = highSurrogate;
+            highSurrogate = 0;
+            if (Character.isLowSurrogate(c)) {
+                int codePoint = Character.toCodePoint(high, c);
+                buffer[count++] = (byte) (0xF0 | (codePoint >> 18));
+                buffer[count++] = (byte) (0x80 | ((codePoint >> 12) & 0x3F));
+                buffer[count++] = (byte) (0x80 | ((codePoint >> 6) & 0x3F));
+                buffer[count++] = (byte) (0x80 | (codePoint & 0x3F));
+                return;
+            }
+            buffer[count++] = '?';
+            if (count > buffer.length - 4)
+                flushBuffer();
+        }
+
+        if (c < 0x80) {
+            buffer[count++] = (byte) c;
+        } else if (c < 0x800) {
+            buffer[count++] = (byte) (0xC0 | (c >> 6));
+            buffer[count++] = (byte) (0x80 | (c & 0x3F));
+        } else if (Character.isHighSurrogate(c)) {
+            highSurrogate = c;
+        } else if (Character.isLowSurrogate(c)) {
+            buffer[count++] = '?';
+        } else {
+            buffer[count++] = (byte) (0xE0 | (c >> 12));
+            buffer[count++] = (byte) (0x80 | ((c >> 6) & 0x3F));
+            buffer[count++] = (byte) (0x80 | (c & 0x3F));
+        }
+    }
+
+    private void flushBuffer() throws IOException {
+        if (count > 0) {
+            out.write(buffer, 0, count);
+            count = 0;
+        }
+    }
+
+    @Override
+    public void flush() throws IOException {
+        flushBuffer();
+        out.flush();
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (highSurrogate != 0) {
+            highSurrogate = 0;
+            writeChar('?');
+        }
+        flush();
+    }
+}
@@ -0,0 +1,181 @@
+package com.playfab.test;
+
+import static org.junit.Assert.*;
+import org.junit.*;
+
+import java.io.*;
+import java.net.*;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.regex.*;
+
+import com.sun.net.httpserver.*;
+
+import com.playfab.PlayFabApiContext;
+import com.playfab.PlayFabClientAPI;
+import com.playfab.PlayFabClientInstanceAPI;
+import com.playfab.PlayFabClientModels;
+import com.playfab.PlayFabErrors.*;
+import com.playfab.PlayFabFuture;
+import com.playfab.PlayFabServerInstanceAPI;
+import com.playfab.PlayFabServerModels;
+import com.playfab.PlayFabSettings;
+
+/**
+ * Instance APIs calling with their own contexts, beside the static API classes, against a local stub server. Logins hand
+ * back a session ticket and entity token named after the custom id, and every call's X-Authorization header is recorded
+ */
+public class PlayFabApiContextTest
+{
+    private static final Pattern CUSTOM_ID = Pattern.compile("\"CustomId\":\"(\\w+)\"");
+
+    private static HttpServer server;
+    private static final Queue<String> authorizations = new ConcurrentLinkedQueue<String>();
+    private static String productionUrl;
+    private static String titleId;
+    private static String clientSessionTicket;
+    private static String entityToken;
+    private static String developerSecretKey;
+
+    @BeforeClass
+    public static void startServer() throws IOException
+    {
+        server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 0);
+        server.setExecutor(Executors.newCachedThreadPool());
+        server.createContext("/", new HttpHandler() {
+            public void handle(HttpExchange exchange) throws IOException {
+                ByteArrayOutputStream body = new ByteArrayOutputStream();
+                InputStream input = exchange.getRequestBody();
+                for (int read = input.read(); read != -1; read = input.read())
+                    body.write(read);
+
+                String data = "{}";
+                if (exchange.getRequestURI().getPath().equals("/Client/LoginWithCustomID")) {
+                    Matcher customId = CUSTOM_ID.matcher(body.toString("UTF-8"));
+                    customId.find();
+                    data = "{\"SessionTicket\":\"ticket-" + customId.group(1) + "\",\"EntityToken\":{\"EntityToken\":\"entity-" + customId.group(1) + "\"}}";
+                } else {
+                    authorizations.add(String.valueOf(exchange.getRequestHeaders().getFirst("X-Authorization")));
+                }
+                byte[] bytes = ("{\"code\":200,\"status\":\"OK\",\"data\":" + data + "}").getBytes("UTF-8");
+                exchange.sendResponseHeaders(200, bytes.length);
+                exchange.getResponseBody().write(bytes);
+                exchange.close();
+            }
+        });
+        server.start();
+
+        productionUrl = PlayFabSettings.ProductionEnvironmentUrl;
+        titleId = PlayFabSettings.TitleId;
+        clientSessionTicket = PlayFabSettings.ClientSessionTicket;
+        entityToken = PlayFabSettings.EntityToken;
+        developerSecretKey = PlayFabSettings.DeveloperSecretKey;
+        PlayFabSettings.ProductionEnvironmentUrl = "http://127.0.0.1:" + server.getAddress().getPort();
+        PlayFabSettings.TitleId = "static-title";
+    }
+
+    @AfterClass
+    public static void stopServer()
+    {
+        server.stop(0);
+        PlayFabSettings.ProductionEnvironmentUrl = productionUrl;
+        PlayFabSettings.TitleId = titleId;
+        PlayFabSettings.ClientSessionTicket = clientSessionTicket;
+        PlayFabSettings.EntityToken = entityToken;
+        PlayFabSettings.DeveloperSecretKey = developerSecretKey;
+    }
+
+    @Before
+    public void clearSession()
+    {
+        authorizations.clear();
+        PlayFabSettings.ClientSessionTicket = "static-ticket";
+        PlayFabSettings.EntityToken = "static-entity";
+        PlayFabSettings.DeveloperSecretKey = "static-key";
+    }
+
+    private static PlayFabClientModels.LoginWithCustomIDRequest login(String customId)
+    {
+        PlayFabClientModels.LoginWithCustomIDRequest request = new PlayFabClientModels.LoginWithCustomIDRequest();
+        request.CustomId = customId;
+        return request;
+    }
+
+    @Test
+    public void EachInstanceKeepsItsOwnSession() throws Exception
+    {
+        PlayFabApiContext title = PlayFabApiContext.fromSettings().withClientSessionTicket(null).withEntityToken(null);
+        PlayFabClientInstanceAPI alice = new PlayFabClientInstanceAPI(title);
+        PlayFabClientInstanceAPI bob = new PlayFabClientInstanceAPI(title);
+
+        assertNull(alice.LoginWithCustomID(login("alice")).Error);
+        assertNull(bob.async().LoginWithCustomID(login("bob")).get(10, TimeUnit.SECONDS).Error);
+        assertEquals("ticket-alice", alice.getContext().getClientSessionTicket());
+        assertEquals("entity-alice", alice.getContext().getEntityToken());
+        assertEquals("ticket-bob", bob.getContext().getClientSessionTicket());
+        assertEquals("entity-bob", bob.getContext().getEntityToken());
+        assertNull(title.getClientSessionTicket());
+
+        // The static session is untouched
+        assertEquals("static-ticket", PlayFabSettings.ClientSessionTicket);
+        assertEquals("static-entity", PlayFabSettings.EntityToken);
+
+        List<PlayFabFuture<PlayFabResult<PlayFabClientModels.GetUserDataResult>>> calls = new ArrayList<PlayFabFuture<PlayFabResult<PlayFabClientModels.GetUserDataResult>>>();
+        for (int i = 0; i < 10; i++) {
+            calls.add(alice.async().GetUserData(new PlayFabClientModels.GetUserDataRequest()));
+            calls.add(bob.async().GetUserData(new PlayFabClientModels.GetUserDataRequest()));
+        }
+        for (PlayFabFuture<PlayFabResult<PlayFabClientModels.GetUserDataResult>> call : calls)
+            assertNull(call.get(10, TimeUnit.SECONDS).Error);
+        assertEquals(10, Collections.frequency(authorizations, "ticket-alice"));
+        assertEquals(10, Collections.frequency(authorizations, "ticket-bob"));
+    }
+
+    @Test
+    public void TheStaticFacadeStillUsesSettings() throws Exception
+    {
+        assertNull(PlayFabClientAPI.GetUserData(new PlayFabClientModels.GetUserDataRequest()).Error);
+        assertEquals("static-ticket", authorizations.poll());
+
+        assertNull(PlayFabClientAPI.LoginWithCustomID(login("carol")).Error);
+        assertEquals("ticket-carol", PlayFabSettings.ClientSessionTicket);
+        assertEquals("entity-carol", PlayFabSettings.EntityToken);
+    }
+
+    @Test
+    public void InstancesIgnoreSettingsCredentials() throws Exception
+    {
+        PlayFabServerInstanceAPI server = new PlayFabServerInstanceAPI(new PlayFabApiContext("instance-title"));
+        PlayFabServerModels.GetUserDataRequest request = new PlayFabServerModels.GetUserDataRequest();
+        request.PlayFabId = "player";
+        PlayFabError error = server.GetUserData(request).Error;
+        assertEquals(PlayFabErrorCode.Unknown, error.pfErrorCode);
+        assertTrue(error.errorMessage.contains("DeveloperSecretKey"));
+
+        PlayFabClientInstanceAPI client = new PlayFabClientInstanceAPI(new PlayFabApiContext("instance-title"));
+        assertTrue(client.GetUserData(new PlayFabClientModels.GetUserDataRequest()).Error.errorMessage.contains("logged in"));
+        assertTrue(authorizations.isEmpty());
+    }
+
+    @Test
+    public void ContextsAreCopiedNotChanged()
+    {
+        PlayFabApiContext context = PlayFabApiContext.fromSettings();
+        PlayFabApiContext other = context.withTitleId("other").withDeveloperSecretKey("other-key");
+        assertEquals("static-title", context.getTitleId());
+        assertEquals("static-key", context.getDeveloperSecretKey());
+        assertEquals("other", other.getTitleId());
+        assertEquals("other-key", other.getDeveloperSecretKey());
+        assertEquals(PlayFabSettings.GetURL("/Client/GetUserData"), context.getURL("/Client/GetUserData"));
+
+        PlayFabApiContext hosted = new PlayFabApiContext("ABCD");
+        assertEquals("https://ABCD.playfabapi.com/Client/GetUserData?sdk=" + PlayFabSettings.SdkVersionString, hosted.getURL("/Client/GetUserData"));
+        assertEquals("https://vertical.playfabapi.com/Client/GetUserData?sdk=" + PlayFabSettings.SdkVersionString, hosted.withVerticalName("vertical").getURL("/Client/GetUserData"));
+
+        try {
+            context.getRequestGetParams().put("sdk", "changed");
+            fail();
+        } catch (UnsupportedOperationException expected) {
+        }
+    }
+}
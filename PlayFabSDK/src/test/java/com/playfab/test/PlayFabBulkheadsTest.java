@@ -0,0 +1,161 @@
+package com.playfab.test;
+
+import static org.junit.Assert.*;
+import org.junit.*;
+
+import java.io.*;
+import java.net.*;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.*;
+
+import com.sun.net.httpserver.*;
+
+import com.playfab.PlayFabAdminAPI;
+import com.playfab.PlayFabAdminModels;
+import com.playfab.PlayFabErrors.*;
+import com.playfab.PlayFabFuture;
+import com.playfab.PlayFabSettings;
+import com.playfab.PlayFabServerModels;
+import com.playfab.PlayFabServerAPI;
+import com.playfab.internal.PlayFabBulkheads;
+import com.playfab.internal.PlayFabConnectionPool;
+import com.playfab.internal.PlayFabHTTP;
+
+/**
+ * Slow calls in one bulkhead leaving another free, against a local stub server where /Admin calls stall
+ */
+public class PlayFabBulkheadsTest
+{
+    private static HttpServer server;
+    private static String productionUrl;
+    private static String developerSecretKey;
+
+    @BeforeClass
+    public static void startServer() throws IOException
+    {
+        server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 0);
+        server.setExecutor(Executors.newCachedThreadPool());
+        server.createContext("/", new HttpHandler() {
+            public void handle(HttpExchange exchange) throws IOException {
+                InputStream body = exchange.getRequestBody();
+                while (body.read() != -1) { }
+                if (exchange.getRequestURI().getPath().startsWith("/Admin/")) {
+                    try {
+                        Thread.sleep(300);
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    }
+                }
+                byte[] bytes = "{\"code\":200,\"status\":\"OK\",\"data\":{}}".getBytes("UTF-8");
+                exchange.sendResponseHeaders(200, bytes.length);
+                exchange.getResponseBody().write(bytes);
+                exchange.close();
+            }
+        });
+        server.start();
+
+        productionUrl = PlayFabSettings.ProductionEnvironmentUrl;
+        developerSecretKey = PlayFabSettings.DeveloperSecretKey;
+        PlayFabSettings.ProductionEnvironmentUrl = "http://127.0.0.1:" + server.getAddress().getPort();
+        PlayFabSettings.DeveloperSecretKey = "bulkheads-test";
+    }
+
+    @AfterClass
+    public static void stopServer()
+    {
+        server.stop(0);
+        PlayFabSettings.ProductionEnvironmentUrl = productionUrl;
+        PlayFabSettings.DeveloperSecretKey = developerSecretKey;
+    }
+
+    @After
+    public void disableBulkheads()
+    {
+        PlayFabSettings.Bulkheads = null;
+    }
+
+    @Test
+    public void ASaturatedBulkheadDoesNotSlowAnother() throws Exception
+    {
+        PlayFabBulkheads bulkheads = new PlayFabBulkheads(5000);
+        bulkheads.addGroup("admin", 2, 10, 2, "/Admin", "/Match", "/MultiplayerServer");
+        bulkheads.addGroup("auth", 4, 10, 2, "/Server/AuthenticateSessionTicket");
+        PlayFabSettings.Bulkheads = bulkheads;
+
+        List<PlayFabFuture<PlayFabResult<PlayFabAdminModels.GetTitleDataResult>>> slow = new ArrayList<PlayFabFuture<PlayFabResult<PlayFabAdminModels.GetTitleDataResult>>>();
+        for (int i = 0; i < 6; i++)
+            slow.add(PlayFabAdminAPI.async().GetTitleData(new PlayFabAdminModels.GetTitleDataRequest()));
+        while (bulkheads.getStats().get("admin").queued < 4)
+            Thread.sleep(1);
+
+        long start = System.nanoTime();
+        PlayFabServerModels.AuthenticateSessionTicketRequest request = new PlayFabServerModels.AuthenticateSessionTicketRequest();
+        request.SessionTicket = "ticket";
+        assertNull(PlayFabServerAPI.AuthenticateSessionTicket(request).Error);
+        assertTrue(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start) < 250);
+
+        for (PlayFabFuture<PlayFabResult<PlayFabAdminModels.GetTitleDataResult>> result : slow)
+            assertNull(result.get(10, TimeUnit.SECONDS).Error);
+        PlayFabBulkheads.Stats admin = bulkheads.getStats().get("admin");
+        assertEquals(6, admin.calls);
+        assertEquals(4, admin.maxQueued);
+        assertEquals(0, admin.inFlight);
+
+        // Each group used connections set aside for it
+        Map<String, PlayFabConnectionPool.Stats> hosts = PlayFabHTTP.getConnectionPoolHostStats();
+        assertEquals(6, hosts.get(PlayFabSettings.ProductionEnvironmentUrl + " [admin]").leases);
+        assertEquals(1, hosts.get(PlayFabSettings.ProductionEnvironmentUrl + " [auth]").leases);
+    }
+
+    @Test
+    public void AFullQueueRejectsAtOnce() throws Exception
+    {
+        PlayFabBulkheads bulkheads = new PlayFabBulkheads(5000);
+        bulkheads.addGroup("admin", 1, 0, 0, "/Admin");
+        PlayFabSettings.Bulkheads = bulkheads;
+
+        PlayFabFuture<PlayFabResult<PlayFabAdminModels.GetTitleDataResult>> first = PlayFabAdminAPI.async().GetTitleData(new PlayFabAdminModels.GetTitleDataRequest());
+        while (bulkheads.getStats().get("admin").inFlight == 0)
+            Thread.sleep(1);
+
+        PlayFabError error = PlayFabAdminAPI.GetTitleData(new PlayFabAdminModels.GetTitleDataRequest()).Error;
+        assertEquals(PlayFabErrorCode.APIConcurrentRequestLimitExceeded, error.pfErrorCode);
+        assertNull(first.get(10, TimeUnit.SECONDS).Error);
+        assertEquals(1, bulkheads.getStats().get("admin").rejected);
+    }
+
+    @Test
+    public void WaitingCallsTimeOut() throws Exception
+    {
+        PlayFabBulkheads bulkheads = new PlayFabBulkheads(50);
+        bulkheads.addGroup("admin", 1, 10, 0, "/Admin");
+        assertNotNull(bulkheads.acquire("/Admin/GetTitleData"));
+
+        long start = System.nanoTime();
+        assertNull(bulkheads.acquire("/Admin/GetTitleData"));
+        assertTrue(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start) >= 45);
+        PlayFabBulkheads.Stats stats = bulkheads.getStats().get("admin");
+        assertEquals(1, stats.timedOut);
+        assertEquals(0, stats.queued);
+        assertEquals(1, stats.inFlight);
+    }
+
+    @Test
+    public void FamiliesOutsideGroupsGetTheirOwnBulkhead() throws Exception
+    {
+        PlayFabBulkheads bulkheads = new PlayFabBulkheads(0);
+        bulkheads.setDefaultLimits(1, 0, 0);
+        bulkheads.addGroup("auth", 4, 10, 0, "/Server/AuthenticateSessionTicket");
+
+        assertEquals("auth", bulkheads.get("/Server/AuthenticateSessionTicket").getName());
+        assertEquals("/Server", bulkheads.get("/Server/GetUserData").getName());
+        assertSame(bulkheads.get("/Server/GetUserData"), bulkheads.get("/Server/UpdateUserData"));
+
+        assertNotNull(bulkheads.acquire("/Server/GetUserData"));
+        assertNull(bulkheads.acquire("/Server/UpdateUserData"));
+        assertNotNull(bulkheads.acquire("/Client/GetUserData"));
+        assertNotNull(bulkheads.acquire("/Server/AuthenticateSessionTicket"));
+        assertEquals(new HashSet<String>(Arrays.asList("auth", "/Server", "/Client")), bulkheads.getStats().keySet());
+    }
+}
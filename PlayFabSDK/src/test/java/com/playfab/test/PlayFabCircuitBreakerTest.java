@@ -0,0 +1,344 @@
+package com.playfab.test;
+
+import static org.junit.Assert.*;
+import org.junit.*;
+
+import java.io.*;
+import java.net.*;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.*;
+
+import com.sun.net.httpserver.*;
+
+import com.playfab.PlayFabClientAPI;
+import com.playfab.PlayFabClientModels;
+import com.playfab.PlayFabErrors.*;
+import com.playfab.PlayFabSettings;
+import com.playfab.PlayFabServerModels;
+import com.playfab.PlayFabServerAPI;
+import com.playfab.internal.PlayFabCircuitBreaker;
+import com.playfab.internal.PlayFabHTTP;
+import com.playfab.internal.PlayFabRateLimiter;
+
+/**
+ * Circuits opening, failing fast and closing again, against a local stub server that fails or stalls on request
+ */
+public class PlayFabCircuitBreakerTest
+{
+    private static final String SUCCESS = "{\"code\":200,\"status\":\"OK\",\"data\":{\"PlayFabId\":\"1337D00D\"}}";
+    private static final String UNAVAILABLE = "{\"code\":503,\"status\":\"ServiceUnavailable\",\"error\":\"ServiceUnavailable\",\"errorCode\":1123,\"errorMessage\":\"Unavailable\"}";
+    private static final String INVALID = "{\"code\":400,\"status\":\"BadRequest\",\"error\":\"InvalidParams\",\"errorCode\":1000,\"errorMessage\":\"Invalid\"}";
+
+    private static HttpServer server;
+    private static String productionUrl;
+    private static String developerSecretKey;
+    private static String clientSessionTicket;
+    private static int maxRetries;
+
+    // Set by each test, read by the stub
+    private static volatile String response = SUCCESS;
+    private static volatile long delayMilliseconds = 0;
+    private static final AtomicInteger requests = new AtomicInteger();
+
+    private final List<String> transitions = Collections.synchronizedList(new ArrayList<String>());
+
+    @BeforeClass
+    public static void startServer() throws IOException
+    {
+        server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 0);
+        server.setExecutor(Executors.newCachedThreadPool());
+        server.createContext("/", new HttpHandler() {
+            public void handle(HttpExchange exchange) throws IOException {
+                readAll(exchange.getRequestBody());
+                requests.incrementAndGet();
+                try {
+                    Thread.sleep(delayMilliseconds);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                String json = response;
+                byte[] bytes = json.getBytes("UTF-8");
+                exchange.sendResponseHeaders(Integer.parseInt(json.substring(8, 11)), bytes.length);
+                exchange.getResponseBody().write(bytes);
+                exchange.close();
+            }
+        });
+        server.start();
+
+        productionUrl = PlayFabSettings.ProductionEnvironmentUrl;
+        developerSecretKey = PlayFabSettings.DeveloperSecretKey;
+        clientSessionTicket = PlayFabSettings.ClientSessionTicket;
+        maxRetries = PlayFabSettings.MaxRetries;
+        PlayFabSettings.ProductionEnvironmentUrl = "http://127.0.0.1:" + server.getAddress().getPort();
+        PlayFabSettings.DeveloperSecretKey = "circuit-breaker-test";
+        PlayFabSettings.ClientSessionTicket = "circuit-breaker-test";
+        PlayFabSettings.MaxRetries = 0;
+    }
+
+    @AfterClass
+    public static void stopServer()
+    {
+        server.stop(0);
+        PlayFabSettings.ProductionEnvironmentUrl = productionUrl;
+        PlayFabSettings.DeveloperSecretKey = developerSecretKey;
+        PlayFabSettings.ClientSessionTicket = clientSessionTicket;
+        PlayFabSettings.MaxRetries = maxRetries;
+    }
+
+    @Before
+    public void enableCircuitBreakers()
+    {
+        response = SUCCESS;
+        delayMilliseconds = 0;
+        requests.set(0);
+        PlayFabHTTP.resetCircuitBreakers();
+        PlayFabSettings.CircuitBreakerEnabled = true;
+        PlayFabSettings.CircuitBreakerMinimumCalls = 4;
+        PlayFabSettings.CircuitBreakerOpenMilliseconds = 200;
+        PlayFabSettings.CircuitBreakerHalfOpenProbes = 1;
+        PlayFabSettings.CircuitBreakerListener = new PlayFabCircuitBreaker.Listener() {
+            public void onStateChange(String name, PlayFabCircuitBreaker.State from, PlayFabCircuitBreaker.State to) {
+                transitions.add(name + " " + from + "->" + to);
+            }
+        };
+    }
+
+    @After
+    public void disableCircuitBreakers()
+    {
+        PlayFabSettings.CircuitBreakerEnabled = false;
+        PlayFabSettings.CircuitBreakerPerEndpoint = false;
+        PlayFabSettings.CircuitBreakerMinimumCalls = 20;
+        PlayFabSettings.CircuitBreakerSlowCallMilliseconds = 10000;
+        PlayFabSettings.CircuitBreakerOpenMilliseconds = 5000;
+        PlayFabSettings.CircuitBreakerHalfOpenProbes = 3;
+        PlayFabSettings.CircuitBreakerListener = null;
+        PlayFabHTTP.resetCircuitBreakers();
+    }
+
+    @Test
+    public void FailuresOpenTheCircuitAndCallsFailFast()
+    {
+        response = UNAVAILABLE;
+        for (int i = 0; i < 4; i++)
+            assertEquals(PlayFabErrorCode.ServiceUnavailable, call().Error.pfErrorCode);
+        assertEquals(PlayFabCircuitBreaker.State.Open, PlayFabHTTP.getCircuitBreaker("/Server/GetUserData").getState());
+        assertEquals(Arrays.asList("/Server Closed->Open"), transitions);
+
+        response = SUCCESS;
+        PlayFabError error = call().Error;
+        assertEquals(PlayFabErrorCode.ServiceUnavailable, error.pfErrorCode);
+        assertTrue(error.errorMessage.contains("Circuit open"));
+        assertEquals(Integer.valueOf(1), error.retryAfterSeconds);
+        assertEquals(4, requests.get());
+        assertEquals(1, PlayFabHTTP.getCircuitBreakerStats().get("/Server").rejected);
+    }
+
+    @Test
+    public void ASuccessfulProbeClosesTheCircuit() throws Exception
+    {
+        openServerCircuit();
+        response = SUCCESS;
+        Thread.sleep(250);
+
+        assertNull(call().Error);
+        assertEquals(PlayFabCircuitBreaker.State.Closed, PlayFabHTTP.getCircuitBreaker("/Server/GetUserData").getState());
+        assertEquals(Arrays.asList("/Server Closed->Open", "/Server Open->HalfOpen", "/Server HalfOpen->Closed"), transitions);
+    }
+
+    @Test
+    public void AFailedProbeOpensTheCircuitAgain() throws Exception
+    {
+        openServerCircuit();
+        Thread.sleep(250);
+
+        assertNotNull(call().Error);
+        assertEquals(PlayFabCircuitBreaker.State.Open, PlayFabHTTP.getCircuitBreaker("/Server/GetUserData").getState());
+        assertEquals(Arrays.asList("/Server Closed->Open", "/Server Open->HalfOpen", "/Server HalfOpen->Open"), transitions);
+        assertEquals(2, PlayFabHTTP.getCircuitBreakerStats().get("/Server").opened);
+    }
+
+    @Test
+    public void SlowCallsOpenTheCircuit()
+    {
+        PlayFabSettings.CircuitBreakerSlowCallMilliseconds = 20;
+        delayMilliseconds = 50;
+        for (int i = 0; i < 4; i++)
+            assertNull(call().Error);
+
+        PlayFabCircuitBreaker.Stats stats = PlayFabHTTP.getCircuitBreakerStats().get("/Server");
+        assertEquals(PlayFabCircuitBreaker.State.Open, stats.state);
+        assertEquals(4, stats.slowCalls);
+    }
+
+    @Test
+    public void ClientErrorsDoNotOpenTheCircuit()
+    {
+        response = INVALID;
+        for (int i = 0; i < 10; i++)
+            assertEquals(PlayFabErrorCode.InvalidParams, call().Error.pfErrorCode);
+
+        PlayFabCircuitBreaker.Stats stats = PlayFabHTTP.getCircuitBreakerStats().get("/Server");
+        assertEquals(PlayFabCircuitBreaker.State.Closed, stats.state);
+        assertEquals(10, stats.windowCalls);
+        assertEquals(0, stats.windowFailures);
+    }
+
+    @Test
+    public void OtherFamiliesKeepWorking()
+    {
+        openServerCircuit();
+        response = SUCCESS;
+
+        PlayFabClientModels.GetUserDataRequest request = new PlayFabClientModels.GetUserDataRequest();
+        assertNull(PlayFabClientAPI.GetUserData(request).Error);
+        assertEquals(5, requests.get());
+    }
+
+    @Test
+    public void EndpointsCanHaveTheirOwnCircuits()
+    {
+        PlayFabSettings.CircuitBreakerPerEndpoint = true;
+        openServerCircuit();
+        response = SUCCESS;
+
+        PlayFabServerModels.GetUserDataRequest request = new PlayFabServerModels.GetUserDataRequest();
+        request.PlayFabId = "1337D00D";
+        assertNull(PlayFabServerAPI.GetUserReadOnlyData(request).Error);
+        assertNotNull(call().Error);
+        assertEquals(Arrays.asList("/Server/GetUserData Closed->Open"), transitions);
+    }
+
+    @Test
+    public void AnOpenCircuitFailsCallsBeforeTheRateLimiter()
+    {
+        openServerCircuit();
+        PlayFabRateLimiter limiter = new PlayFabRateLimiter(5000);
+        limiter.addLimit("/Server", 1, 1);
+        PlayFabSettings.RateLimiter = limiter;
+        try {
+            long begin = System.currentTimeMillis();
+            for (int i = 0; i < 3; i++)
+                assertTrue(call().Error.errorMessage.contains("Circuit open"));
+            // Rejected at once, without waiting for or spending a token
+            assertTrue(System.currentTimeMillis() - begin < 500);
+            assertEquals(0, limiter.getStats().get(0).permitted);
+        } finally {
+            PlayFabSettings.RateLimiter = null;
+        }
+    }
+
+    @Test
+    public void AProbeStoppedByTheRateLimiterIsGivenBack() throws Exception
+    {
+        openServerCircuit();
+        response = SUCCESS;
+        PlayFabRateLimiter limiter = new PlayFabRateLimiter(0);
+        limiter.addLimit("/Server", 1, 1);
+        assertEquals(0, limiter.acquire("/Server/GetUserData", null));
+        Thread.sleep(250);
+
+        PlayFabSettings.RateLimiter = limiter;
+        try {
+            assertEquals(PlayFabErrorCode.APIClientRequestRateLimitExceeded, call().Error.pfErrorCode);
+        } finally {
+            PlayFabSettings.RateLimiter = null;
+        }
+        assertEquals(PlayFabCircuitBreaker.State.HalfOpen, PlayFabHTTP.getCircuitBreaker("/Server/GetUserData").getState());
+
+        // The only probe of the period is still there for the next call
+        assertNull(call().Error);
+        assertEquals(PlayFabCircuitBreaker.State.Closed, PlayFabHTTP.getCircuitBreaker("/Server/GetUserData").getState());
+    }
+
+    @Test
+    public void ConcurrentCallersSeeEachHalfOpenPeriodWhole() throws Exception
+    {
+        PlayFabSettings.CircuitBreakerOpenMilliseconds = 20;
+        PlayFabSettings.CircuitBreakerHalfOpenProbes = 2;
+        final PlayFabCircuitBreaker breaker = new PlayFabCircuitBreaker("/Concurrent");
+        for (int i = 0; i < 4; i++)
+            breaker.record(breaker.tryAcquire(), true);
+        assertEquals(PlayFabCircuitBreaker.State.Open, breaker.getState());
+
+        PlayFabCircuitBreaker.Permit late = null;
+        for (int cycle = 0; cycle < 20; cycle++) {
+            Thread.sleep(30);
+            final CountDownLatch start = new CountDownLatch(1);
+            final Queue<PlayFabCircuitBreaker.Permit> permits = new ConcurrentLinkedQueue<PlayFabCircuitBreaker.Permit>();
+            List<Thread> callers = new ArrayList<Thread>();
+            for (int i = 0; i < 8; i++) {
+                Thread caller = new Thread(new Runnable() {
+                    public void run() {
+                        try {
+                            start.await();
+                        } catch (InterruptedException e) {
+                            return;
+                        }
+                        PlayFabCircuitBreaker.Permit permit = breaker.tryAcquire();
+                        if (permit != null)
+                            permits.add(permit);
+                    }
+                });
+                caller.start();
+                callers.add(caller);
+            }
+            start.countDown();
+            for (Thread caller : callers)
+                caller.join();
+
+            // Exactly the probes the setting allows, however the callers raced to turn the circuit half-open
+            assertEquals(2, permits.size());
+            assertEquals(PlayFabCircuitBreaker.State.HalfOpen, breaker.getState());
+
+            // A probe of the last period succeeding now counts for nothing in this one
+            if (late != null) {
+                breaker.record(late, false);
+                breaker.record(permits.peek(), false);
+                assertEquals(PlayFabCircuitBreaker.State.HalfOpen, breaker.getState());
+                permits.poll();
+            }
+
+            // A failed probe opens the circuit for a full period, and the other probe is left to finish late
+            breaker.record(permits.poll(), true);
+            late = permits.poll();
+            assertEquals(PlayFabCircuitBreaker.State.Open, breaker.getState());
+            assertTrue(breaker.getRemainingOpenMilliseconds() > 0);
+            assertNull(breaker.tryAcquire());
+            assertEquals(cycle + 2, breaker.getStats().opened);
+        }
+
+        int halfOpened = 0;
+        for (String transition : transitions)
+            if (transition.equals("/Concurrent Open->HalfOpen"))
+                halfOpened++;
+        assertEquals(20, halfOpened);
+    }
+
+    // Helpers
+    private static PlayFabResult<PlayFabServerModels.GetUserDataResult> call()
+    {
+        PlayFabServerModels.GetUserDataRequest request = new PlayFabServerModels.GetUserDataRequest();
+        request.PlayFabId = "1337D00D";
+        return PlayFabServerAPI.GetUserData(request);
+    }
+
+    private static void openServerCircuit()
+    {
+        response = UNAVAILABLE;
+        for (int i = 0; i < 4; i++)
+            call();
+        assertEquals(PlayFabCircuitBreaker.State.Open, PlayFabHTTP.getCircuitBreaker("/Server/GetUserData").getState());
+    }
+
+    private static String readAll(InputStream in) throws IOException
+    {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        byte[] buffer = new byte[4096];
+        int read;
+        while ((read = in.read(buffer)) != -1)
+            out.write(buffer, 0, read);
+        return new String(out.toByteArray(), "UTF-8");
+    }
+}
@@ -0,0 +1,254 @@
+package com.playfab.test;
+
+import static org.junit.Assert.*;
+import org.junit.*;
+
+import java.io.*;
+import java.net.*;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.*;
+
+import com.google.gson.*;
+import com.sun.net.httpserver.*;
+
+import com.playfab.PlayFabApiContext;
+import com.playfab.PlayFabClassicEventBatcher;
+import com.playfab.PlayFabClientAPI;
+import com.playfab.PlayFabClientModels;
+import com.playfab.PlayFabErrors.*;
+import com.playfab.PlayFabEventPipeline;
+import com.playfab.PlayFabFuture;
+import com.playfab.PlayFabServerAPI;
+import com.playfab.PlayFabServerInstanceAPI;
+import com.playfab.PlayFabServerModels;
+import com.playfab.PlayFabSettings;
+
+/**
+ * Classic player, character and title events sent as batched entity events, against a local stub server
+ */
+public class PlayFabClassicEventBatcherTest
+{
+    private static HttpServer server;
+    private static String productionUrl;
+    private static String entityToken;
+    private static String developerSecretKey;
+    private static String clientSessionTicket;
+
+    // Read and written by the stub
+    private static final Queue<String> paths = new ConcurrentLinkedQueue<String>();
+    private static final Queue<JsonObject> events = new ConcurrentLinkedQueue<JsonObject>();
+    private static volatile boolean failRequests = false;
+
+    private PlayFabEventPipeline pipeline;
+
+    @BeforeClass
+    public static void startServer() throws IOException
+    {
+        server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 0);
+        server.setExecutor(Executors.newCachedThreadPool());
+        server.createContext("/", new HttpHandler() {
+            public void handle(HttpExchange exchange) throws IOException {
+                String path = exchange.getRequestURI().getPath();
+                paths.add(path);
+                JsonObject request = new JsonParser().parse(readAll(exchange.getRequestBody())).getAsJsonObject();
+
+                String response;
+                if (failRequests) {
+                    response = "{\"code\":400,\"status\":\"BadRequest\",\"error\":\"InvalidParams\",\"errorCode\":1000,\"errorMessage\":\"Rejected by the stub\"}";
+                } else if (path.equals("/Event/WriteEvents")) {
+                    // Each event's id is made from its name, so the test can match ids to calls
+                    JsonArray ids = new JsonArray();
+                    for (JsonElement event : request.getAsJsonArray("Events")) {
+                        events.add(event.getAsJsonObject());
+                        ids.add(new JsonPrimitive("id-" + event.getAsJsonObject().get("Name").getAsString()));
+                    }
+                    response = "{\"code\":200,\"status\":\"OK\",\"data\":{\"AssignedEventIds\":" + ids + "}}";
+                } else {
+                    response = "{\"code\":200,\"status\":\"OK\",\"data\":{\"EventId\":\"classic-" + request.get("EventName").getAsString() + "\"}}";
+                }
+                byte[] bytes = response.getBytes("UTF-8");
+                exchange.sendResponseHeaders(failRequests ? 400 : 200, bytes.length);
+                exchange.getResponseBody().write(bytes);
+                exchange.close();
+            }
+        });
+        server.start();
+
+        productionUrl = PlayFabSettings.ProductionEnvironmentUrl;
+        entityToken = PlayFabSettings.EntityToken;
+        developerSecretKey = PlayFabSettings.DeveloperSecretKey;
+        clientSessionTicket = PlayFabSettings.ClientSessionTicket;
+        PlayFabSettings.ProductionEnvironmentUrl = "http://127.0.0.1:" + server.getAddress().getPort();
+        PlayFabSettings.EntityToken = "classic-event-test";
+        PlayFabSettings.DeveloperSecretKey = "classic-event-test";
+        PlayFabSettings.ClientSessionTicket = "classic-event-test";
+    }
+
+    @AfterClass
+    public static void stopServer()
+    {
+        server.stop(0);
+        PlayFabSettings.ProductionEnvironmentUrl = productionUrl;
+        PlayFabSettings.EntityToken = entityToken;
+        PlayFabSettings.DeveloperSecretKey = developerSecretKey;
+        PlayFabSettings.ClientSessionTicket = clientSessionTicket;
+    }
+
+    @Before
+    public void startPipeline()
+    {
+        paths.clear();
+        events.clear();
+        failRequests = false;
+        PlayFabEventPipeline.Settings settings = new PlayFabEventPipeline.Settings();
+        settings.MaxLatencyMilliseconds = 50;
+        pipeline = new PlayFabEventPipeline(settings);
+        PlayFabSettings.ClassicEventRouter = new PlayFabClassicEventBatcher(pipeline);
+    }
+
+    @After
+    public void stopPipeline() throws IOException
+    {
+        PlayFabSettings.ClassicEventRouter = null;
+        pipeline.close();
+    }
+
+    @Test
+    public void AsyncPlayerEventsShareBatches() throws Exception
+    {
+        List<PlayFabFuture<PlayFabResult<PlayFabServerModels.WriteEventResponse>>> results = new ArrayList<PlayFabFuture<PlayFabResult<PlayFabServerModels.WriteEventResponse>>>();
+        for (int i = 0; i < 300; i++) {
+            PlayFabServerModels.WriteServerPlayerEventRequest request = new PlayFabServerModels.WriteServerPlayerEventRequest();
+            request.PlayFabId = "1337D00D";
+            request.EventName = "player_event_" + i;
+            request.Body = new HashMap<String, Object>();
+            request.Body.put("score", i);
+            results.add(PlayFabServerAPI.async().WritePlayerEvent(request));
+        }
+
+        for (int i = 0; i < 300; i++) {
+            PlayFabResult<PlayFabServerModels.WriteEventResponse> result = results.get(i).get(10, TimeUnit.SECONDS);
+            assertNull(result.Error);
+            assertEquals("id-player_event_" + i, result.Result.EventId);
+        }
+        assertTrue(paths.size() <= 3);
+        for (String path : paths)
+            assertEquals("/Event/WriteEvents", path);
+
+        JsonObject event = events.peek();
+        assertEquals("custom", event.get("EventNamespace").getAsString());
+        assertEquals("master_player_account", event.getAsJsonObject("Entity").get("Type").getAsString());
+        assertEquals("1337D00D", event.getAsJsonObject("Entity").get("Id").getAsString());
+        assertTrue(event.getAsJsonObject("Payload").has("score"));
+    }
+
+    @Test
+    public void SyncCharacterEventReturnsItsEventId()
+    {
+        PlayFabServerModels.WriteServerCharacterEventRequest request = new PlayFabServerModels.WriteServerCharacterEventRequest();
+        request.PlayFabId = "1337D00D";
+        request.CharacterId = "C0FFEE";
+        request.EventName = "character_event";
+        PlayFabResult<PlayFabServerModels.WriteEventResponse> result = PlayFabServerAPI.WriteCharacterEvent(request);
+
+        assertNull(result.Error);
+        assertEquals("id-character_event", result.Result.EventId);
+        assertEquals("character", events.peek().getAsJsonObject("Entity").get("Type").getAsString());
+        assertEquals("C0FFEE", events.peek().getAsJsonObject("Entity").get("Id").getAsString());
+    }
+
+    @Test
+    public void ClientEventsAreAboutTheCaller() throws Exception
+    {
+        PlayFabClientModels.WriteClientPlayerEventRequest request = new PlayFabClientModels.WriteClientPlayerEventRequest();
+        request.EventName = "client_event";
+        PlayFabResult<PlayFabClientModels.WriteEventResponse> result = PlayFabClientAPI.async().WritePlayerEvent(request).get(10, TimeUnit.SECONDS);
+
+        assertNull(result.Error);
+        assertEquals("id-client_event", result.Result.EventId);
+        assertFalse(events.peek().has("Entity"));
+    }
+
+    @Test
+    public void BatchErrorReachesEveryCall() throws Exception
+    {
+        failRequests = true;
+        final AtomicInteger handled = new AtomicInteger();
+        PlayFabSettings.GlobalErrorHandler = new ErrorCallback() {
+            public void callback(PlayFabError error) {
+                handled.incrementAndGet();
+            }
+        };
+        try {
+            List<PlayFabFuture<PlayFabResult<PlayFabServerModels.WriteEventResponse>>> results = new ArrayList<PlayFabFuture<PlayFabResult<PlayFabServerModels.WriteEventResponse>>>();
+            for (int i = 0; i < 5; i++) {
+                PlayFabServerModels.WriteTitleEventRequest request = new PlayFabServerModels.WriteTitleEventRequest();
+                request.EventName = "title_event_" + i;
+                results.add(PlayFabServerAPI.async().WriteTitleEvent(request));
+            }
+            for (PlayFabFuture<PlayFabResult<PlayFabServerModels.WriteEventResponse>> result : results)
+                assertEquals(PlayFabErrorCode.InvalidParams, result.get(10, TimeUnit.SECONDS).Error.pfErrorCode);
+            assertTrue(handled.get() >= 5);
+        } finally {
+            PlayFabSettings.GlobalErrorHandler = null;
+        }
+    }
+
+    @Test
+    public void SyncEventsCanReturnOnceQueued() throws Exception
+    {
+        PlayFabSettings.ClassicEventWaitForBatch = false;
+        try {
+            PlayFabServerModels.WriteTitleEventRequest request = new PlayFabServerModels.WriteTitleEventRequest();
+            request.EventName = "queued_event";
+            PlayFabResult<PlayFabServerModels.WriteEventResponse> result = PlayFabServerAPI.WriteTitleEvent(request);
+
+            // Returned before the batch waited out its latency, so without the id the service assigns
+            assertNull(result.Error);
+            assertNull(result.Result.EventId);
+            assertTrue(paths.isEmpty());
+            assertTrue(pipeline.flush(10000));
+            assertEquals("queued_event", events.peek().get("Name").getAsString());
+        } finally {
+            PlayFabSettings.ClassicEventWaitForBatch = true;
+        }
+    }
+
+    @Test
+    public void InstanceCallsAreNotRouted()
+    {
+        PlayFabServerInstanceAPI server = new PlayFabServerInstanceAPI(PlayFabApiContext.fromSettings());
+        PlayFabServerModels.WriteServerPlayerEventRequest request = new PlayFabServerModels.WriteServerPlayerEventRequest();
+        request.PlayFabId = "1337D00D";
+        request.EventName = "instance_event";
+        PlayFabResult<PlayFabServerModels.WriteEventResponse> result = server.WritePlayerEvent(request);
+
+        assertEquals("classic-instance_event", result.Result.EventId);
+        assertEquals(Arrays.asList("/Server/WritePlayerEvent"), new ArrayList<String>(paths));
+    }
+
+    @Test
+    public void WithoutARouterEachEventIsItsOwnCall()
+    {
+        PlayFabSettings.ClassicEventRouter = null;
+        PlayFabServerModels.WriteServerPlayerEventRequest request = new PlayFabServerModels.WriteServerPlayerEventRequest();
+        request.PlayFabId = "1337D00D";
+        request.EventName = "classic_event";
+        PlayFabResult<PlayFabServerModels.WriteEventResponse> result = PlayFabServerAPI.WritePlayerEvent(request);
+
+        assertEquals("classic-classic_event", result.Result.EventId);
+        assertEquals(Arrays.asList("/Server/WritePlayerEvent"), new ArrayList<String>(paths));
+    }
+
+    // Helpers
+    private static String readAll(InputStream in) throws IOException
+    {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        byte[] buffer = new byte[4096];
+        int read;
+        while ((read = in.read(buffer)) != -1)
+            out.write(buffer, 0, read);
+        return new String(out.toByteArray(), "UTF-8");
+    }
+}
@@ -0,0 +1,194 @@
+package com.playfab.test;
+
+import static org.junit.Assert.*;
+import org.junit.*;
+
+import java.io.*;
+import java.net.*;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.zip.*;
+
+import com.sun.net.httpserver.*;
+
+import com.playfab.PlayFabErrors.*;
+import com.playfab.PlayFabSettings;
+import com.playfab.PlayFabServerModels;
+import com.playfab.PlayFabServerAPI;
+import com.playfab.internal.PlayFabCompression;
+import com.playfab.internal.PlayFabHTTP;
+
+/**
+ * Request compression and response decoding against a local stub server, so it runs without a PlayFab title
+ */
+public class PlayFabCompressionTest
+{
+    private static HttpServer server;
+    private static String productionUrl;
+    private static String developerSecretKey;
+
+    // Set by each test, read by the stub
+    private static volatile String responseEncoding = null;
+    private static volatile String requestEncoding = null;
+    private static volatile String requestJson = null;
+
+    @BeforeClass
+    public static void startServer() throws IOException
+    {
+        server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 0);
+        server.setExecutor(Executors.newCachedThreadPool());
+        server.createContext("/", new HttpHandler() {
+            public void handle(HttpExchange exchange) throws IOException {
+                requestEncoding = exchange.getRequestHeaders().getFirst("Content-Encoding");
+                InputStream body = exchange.getRequestBody();
+                if ("gzip".equals(requestEncoding))
+                    body = new GZIPInputStream(body);
+                requestJson = readAll(body);
+
+                String keys = requestJson.substring(requestJson.indexOf("\"Keys\":"));
+                String json = "{\"code\":200,\"status\":\"OK\",\"data\":{\"PlayFabId\":\"1337D00D\",\"Data\":{\"echo\":{\"Value\":" + quote(keys) + "}}}}";
+                byte[] response = encode(json.getBytes("UTF-8"), responseEncoding);
+                if (responseEncoding != null)
+                    exchange.getResponseHeaders().set("Content-Encoding", responseEncoding);
+                exchange.sendResponseHeaders(200, response.length);
+                exchange.getResponseBody().write(response);
+                exchange.close();
+            }
+        });
+        server.start();
+
+        productionUrl = PlayFabSettings.ProductionEnvironmentUrl;
+        developerSecretKey = PlayFabSettings.DeveloperSecretKey;
+        PlayFabSettings.ProductionEnvironmentUrl = "http://127.0.0.1:" + server.getAddress().getPort();
+        PlayFabSettings.DeveloperSecretKey = "compression-test";
+    }
+
+    @AfterClass
+    public static void stopServer()
+    {
+        server.stop(0);
+        PlayFabSettings.ProductionEnvironmentUrl = productionUrl;
+        PlayFabSettings.DeveloperSecretKey = developerSecretKey;
+    }
+
+    @After
+    public void resetSettings()
+    {
+        PlayFabSettings.CompressRequests = false;
+        PlayFabSettings.CompressionThresholdBytes = 1024;
+        responseEncoding = null;
+    }
+
+    @Test
+    public void LargeRequestIsCompressed()
+    {
+        PlayFabSettings.CompressRequests = true;
+        PlayFabServerModels.GetUserDataResult result = call(200);
+        assertEquals("gzip", requestEncoding);
+        assertEquals(200, countKeys(requestJson));
+        assertEquals(200, countKeys(result.Data.get("echo").Value));
+    }
+
+    @Test
+    public void SmallRequestIsNotCompressed()
+    {
+        PlayFabSettings.CompressRequests = true;
+        call(2);
+        assertNull(requestEncoding);
+        assertEquals(2, countKeys(requestJson));
+    }
+
+    @Test
+    public void CompressionIsOffByDefault()
+    {
+        call(200);
+        assertNull(requestEncoding);
+        assertEquals(200, countKeys(requestJson));
+    }
+
+    @Test
+    public void GzipResponseIsDecoded()
+    {
+        responseEncoding = "gzip";
+        PlayFabServerModels.GetUserDataResult result = call(50);
+        assertEquals(50, countKeys(result.Data.get("echo").Value));
+    }
+
+    @Test
+    public void DeflateResponseIsDecoded()
+    {
+        responseEncoding = "deflate";
+        PlayFabServerModels.GetUserDataResult result = call(50);
+        assertEquals(50, countKeys(result.Data.get("echo").Value));
+    }
+
+    @Test
+    public void StatsShowCompressionRatio()
+    {
+        PlayFabSettings.CompressRequests = true;
+        responseEncoding = "gzip";
+        PlayFabCompression.Stats before = getStats();
+        call(500);
+        PlayFabCompression.Stats after = getStats();
+
+        // Counters are cumulative, so only the difference belongs to this call
+        assertEquals(1, after.compressedRequests - before.compressedRequests);
+        assertEquals(1, after.compressedResponses - before.compressedResponses);
+        assertTrue(after.requestWireBytes - before.requestWireBytes < (after.requestBytes - before.requestBytes) / 2);
+        assertTrue(after.responseWireBytes - before.responseWireBytes < (after.responseBytes - before.responseBytes) / 2);
+    }
+
+    // Helpers
+    private PlayFabServerModels.GetUserDataResult call(int keyCount)
+    {
+        PlayFabServerModels.GetUserDataRequest request = new PlayFabServerModels.GetUserDataRequest();
+        request.PlayFabId = "1337D00D";
+        request.Keys = new ArrayList<String>();
+        for (int i = 0; i < keyCount; i++)
+            request.Keys.add("key" + i);
+
+        PlayFabResult<PlayFabServerModels.GetUserDataResult> result = PlayFabServerAPI.GetUserData(request);
+        assertNull(result.Error == null ? null : result.Error.errorMessage, result.Error);
+        return result.Result;
+    }
+
+    private static PlayFabCompression.Stats getStats()
+    {
+        PlayFabCompression.Stats stats = PlayFabHTTP.getCompressionStats().get("/Server/GetUserData");
+        return stats != null ? stats : new PlayFabCompression.Stats();
+    }
+
+    private static int countKeys(String json)
+    {
+        int count = 0;
+        for (int i = json.indexOf("\"key"); i >= 0; i = json.indexOf("\"key", i + 1))
+            count++;
+        return count;
+    }
+
+    private static String quote(String value)
+    {
+        return "\"" + value.replace("\\", "\\\\").replace("\"", "\\\"") + "\"";
+    }
+
+    private static String readAll(InputStream in) throws IOException
+    {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        byte[] buffer = new byte[4096];
+        int read;
+        while ((read = in.read(buffer)) != -1)
+            out.write(buffer, 0, read);
+        return new String(out.toByteArray(), "UTF-8");
+    }
+
+    private static byte[] encode(byte[] data, String encoding) throws IOException
+    {
+        if (encoding == null)
+            return data;
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        DeflaterOutputStream compressed = "gzip".equals(encoding) ? new GZIPOutputStream(out) : new DeflaterOutputStream(out);
+        compressed.write(data);
+        compressed.close();
+        return out.toByteArray();
+    }
+}
@@ -0,0 +1,203 @@
+package com.playfab.test;
+
+import static org.junit.Assert.*;
+import org.junit.*;
+
+import java.io.*;
+import java.net.*;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.*;
+
+import com.sun.net.httpserver.*;
+
+import com.playfab.PlayFabErrors.*;
+import com.playfab.PlayFabFuture;
+import com.playfab.PlayFabSettings;
+import com.playfab.PlayFabServerModels;
+import com.playfab.PlayFabServerAPI;
+import com.playfab.internal.PlayFabConcurrencyLimiter;
+import com.playfab.internal.PlayFabHTTP;
+
+/**
+ * In-flight limits that follow call latency, and the queue in front of them
+ */
+public class PlayFabConcurrencyLimiterTest
+{
+    private PlayFabConcurrencyLimiter limiter;
+
+    @Before
+    public void createLimiter()
+    {
+        limiter = new PlayFabConcurrencyLimiter();
+    }
+
+    @After
+    public void restoreSettings()
+    {
+        PlayFabSettings.AdaptiveConcurrency = false;
+        PlayFabSettings.AdaptiveConcurrencyInitialLimit = 20;
+        PlayFabSettings.AdaptiveConcurrencyMinLimit = 1;
+        PlayFabSettings.AdaptiveConcurrencyMaxLimit = 200;
+        PlayFabSettings.AdaptiveConcurrencyMaxQueue = 100;
+        PlayFabSettings.AdaptiveConcurrencyQueueTimeoutMilliseconds = 5000;
+        PlayFabHTTP.getConcurrencyLimiter().reset();
+    }
+
+    @Test
+    public void TheLimitRisesWhileLatencyStaysFlat() throws Exception
+    {
+        PlayFabSettings.AdaptiveConcurrencyInitialLimit = 4;
+        for (int round = 0; round < 5; round++)
+            runRound(limit(), 10);
+
+        assertTrue(limit() > 4);
+        assertTrue(limiter.getStats().get("/Server/GetUserData").minRttMilliseconds >= 10);
+    }
+
+    @Test
+    public void TheLimitFallsWhenLatencyClimbs() throws Exception
+    {
+        runRound(20, 5);
+        int settled = limit();
+        for (int round = 0; round < 3; round++)
+            runRound(limit(), 60);
+
+        assertTrue(limit() < settled);
+    }
+
+    @Test
+    public void OverloadErrorsLowerTheLimit() throws Exception
+    {
+        PlayFabConcurrencyLimiter.Permit permit = limiter.acquire("/Server/GetUserData");
+        limiter.release(permit, true);
+        assertEquals(18, limit());
+    }
+
+    @Test
+    public void ExcessCallersWaitThenTimeOut() throws Exception
+    {
+        PlayFabSettings.AdaptiveConcurrencyInitialLimit = 1;
+        PlayFabSettings.AdaptiveConcurrencyMaxLimit = 1;
+        PlayFabSettings.AdaptiveConcurrencyQueueTimeoutMilliseconds = 100;
+        assertNotNull(limiter.acquire("/Server/GetUserData"));
+
+        long start = System.nanoTime();
+        assertNull(limiter.acquire("/Server/GetUserData"));
+        assertTrue(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start) >= 90);
+
+        PlayFabSettings.AdaptiveConcurrencyMaxQueue = 0;
+        assertNull(limiter.acquire("/Server/GetUserData"));
+        PlayFabConcurrencyLimiter.Stats stats = limiter.getStats().get("/Server/GetUserData");
+        assertEquals(1, stats.timedOut);
+        assertEquals(1, stats.rejected);
+        assertEquals(1, stats.inFlight);
+    }
+
+    @Test
+    public void AWaitingCallerGetsTheFreedSlot() throws Exception
+    {
+        PlayFabSettings.AdaptiveConcurrencyInitialLimit = 1;
+        PlayFabSettings.AdaptiveConcurrencyMaxLimit = 1;
+        PlayFabConcurrencyLimiter.Permit first = limiter.acquire("/Server/GetUserData");
+
+        final AtomicReference<PlayFabConcurrencyLimiter.Permit> second = new AtomicReference<PlayFabConcurrencyLimiter.Permit>();
+        Thread waiter = new Thread(new Runnable() {
+            public void run() {
+                try {
+                    second.set(limiter.acquire("/Server/GetUserData"));
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+        });
+        waiter.start();
+        while (limiter.getStats().get("/Server/GetUserData").queued == 0)
+            Thread.sleep(1);
+
+        limiter.release(first, false);
+        waiter.join(5000);
+        assertNotNull(second.get());
+        assertEquals(1, limiter.getStats().get("/Server/GetUserData").inFlight);
+    }
+
+    @Test
+    public void CallsOverTheLimitAreNotSent() throws Exception
+    {
+        final AtomicInteger requests = new AtomicInteger();
+        HttpServer server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 0);
+        server.setExecutor(Executors.newCachedThreadPool());
+        server.createContext("/", new HttpHandler() {
+            public void handle(HttpExchange exchange) throws IOException {
+                InputStream body = exchange.getRequestBody();
+                while (body.read() != -1) { }
+                requests.incrementAndGet();
+                try {
+                    Thread.sleep(300);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                byte[] bytes = "{\"code\":200,\"status\":\"OK\",\"data\":{}}".getBytes("UTF-8");
+                exchange.sendResponseHeaders(200, bytes.length);
+                exchange.getResponseBody().write(bytes);
+                exchange.close();
+            }
+        });
+        server.start();
+
+        String productionUrl = PlayFabSettings.ProductionEnvironmentUrl;
+        String developerSecretKey = PlayFabSettings.DeveloperSecretKey;
+        PlayFabSettings.ProductionEnvironmentUrl = "http://127.0.0.1:" + server.getAddress().getPort();
+        PlayFabSettings.DeveloperSecretKey = "concurrency-limiter-test";
+        PlayFabSettings.AdaptiveConcurrency = true;
+        PlayFabSettings.AdaptiveConcurrencyInitialLimit = 1;
+        PlayFabSettings.AdaptiveConcurrencyMaxLimit = 1;
+        PlayFabSettings.AdaptiveConcurrencyMaxQueue = 0;
+        try {
+            PlayFabFuture<PlayFabResult<PlayFabServerModels.GetUserDataResult>> first = PlayFabServerAPI.async().GetUserData(getUserData());
+            while (requests.get() == 0)
+                Thread.sleep(1);
+
+            PlayFabError error = PlayFabServerAPI.GetUserData(getUserData()).Error;
+            assertEquals(PlayFabErrorCode.APIConcurrentRequestLimitExceeded, error.pfErrorCode);
+            assertNull(first.get(10, TimeUnit.SECONDS).Error);
+            assertEquals(1, requests.get());
+
+            PlayFabConcurrencyLimiter.Stats stats = PlayFabHTTP.getConcurrencyLimiter().getStats().get("/Server/GetUserData");
+            assertEquals(1, stats.calls);
+            assertEquals(1, stats.rejected);
+            assertTrue(stats.rttMilliseconds >= 300);
+        } finally {
+            PlayFabSettings.ProductionEnvironmentUrl = productionUrl;
+            PlayFabSettings.DeveloperSecretKey = developerSecretKey;
+            server.stop(0);
+        }
+    }
+
+    // Helpers
+    private int limit()
+    {
+        PlayFabConcurrencyLimiter.Stats stats = limiter.getStats().get("/Server/GetUserData");
+        return stats != null ? stats.limit : PlayFabSettings.AdaptiveConcurrencyInitialLimit;
+    }
+
+    /**
+     * Holds the given number of permits together for a while, then releases them all
+     */
+    private void runRound(int calls, long holdMilliseconds) throws Exception
+    {
+        List<PlayFabConcurrencyLimiter.Permit> permits = new ArrayList<PlayFabConcurrencyLimiter.Permit>();
+        for (int i = 0; i < calls; i++)
+            permits.add(limiter.acquire("/Server/GetUserData"));
+        Thread.sleep(holdMilliseconds);
+        for (PlayFabConcurrencyLimiter.Permit permit : permits)
+            limiter.release(permit, false);
+    }
+
+    private static PlayFabServerModels.GetUserDataRequest getUserData()
+    {
+        PlayFabServerModels.GetUserDataRequest request = new PlayFabServerModels.GetUserDataRequest();
+        request.PlayFabId = "1337D00D";
+        return request;
+    }
+}
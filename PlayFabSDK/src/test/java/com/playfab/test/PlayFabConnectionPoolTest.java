@@ -0,0 +1,122 @@
+package com.playfab.test;
+
+import static org.junit.Assert.*;
+import org.junit.*;
+
+import com.playfab.PlayFabSettings;
+import com.playfab.internal.PlayFabConnectionPool;
+
+/**
+ * Lease, wait and release accounting of the connection pool, which needs no server: leases are slots, not sockets
+ */
+public class PlayFabConnectionPoolTest
+{
+    private static final String HOST = "titleid.playfabapi.com";
+
+    private long idleTimeout;
+    private boolean setHttpMaxConnections;
+
+    @Before
+    public void saveSettings()
+    {
+        idleTimeout = PlayFabSettings.ConnectionIdleTimeoutMilliseconds;
+        setHttpMaxConnections = PlayFabSettings.SetHttpMaxConnections;
+    }
+
+    @After
+    public void restoreSettings()
+    {
+        PlayFabSettings.ConnectionIdleTimeoutMilliseconds = idleTimeout;
+        PlayFabSettings.SetHttpMaxConnections = setHttpMaxConnections;
+    }
+
+    @Test
+    public void DrainedConnectionsAreReused() throws Exception
+    {
+        PlayFabConnectionPool pool = new PlayFabConnectionPool();
+        PlayFabConnectionPool.Lease first = pool.acquire(HOST, 1000);
+        assertFalse(first.isReused());
+        assertEquals(1, pool.getStats().inUse);
+        pool.release(first, true);
+        assertEquals(0, pool.getStats().inUse);
+        assertEquals(1, pool.getStats().idle);
+
+        PlayFabConnectionPool.Lease second = pool.acquire(HOST, 1000);
+        assertTrue(second.isReused());
+        pool.release(second, false);
+
+        PlayFabConnectionPool.Stats stats = pool.getStats();
+        assertEquals(2, stats.leases);
+        assertEquals(1, stats.created);
+        assertEquals(1, stats.reused);
+        assertEquals(1, stats.discarded);
+        assertEquals(0, stats.idle);
+        assertEquals(0.5, stats.getReuseRate(), 0.0);
+    }
+
+    @Test
+    public void CallersWaitForAFreeSlotAndTimeOut() throws Exception
+    {
+        PlayFabConnectionPool pool = new PlayFabConnectionPool();
+        PlayFabConnectionPool.Lease first = pool.acquire(HOST, "reads", 2, 1000);
+        PlayFabConnectionPool.Lease second = pool.acquire(HOST, "reads", 2, 1000);
+        long begin = System.currentTimeMillis();
+        assertNull(pool.acquire(HOST, "reads", 2, 100));
+        assertTrue(System.currentTimeMillis() - begin >= 90);
+
+        // Other partitions of the host have slots of their own
+        PlayFabConnectionPool.Lease other = pool.acquire(HOST, "writes", 2, 0);
+        assertNotNull(other);
+
+        pool.release(first, true);
+        PlayFabConnectionPool.Lease third = pool.acquire(HOST, "reads", 2, 100);
+        assertNotNull(third);
+        pool.release(second, true);
+        pool.release(third, true);
+        pool.release(other, true);
+
+        PlayFabConnectionPool.Stats reads = pool.getHostStats().get(HOST + " [reads]");
+        assertEquals(3, reads.leases);
+        assertEquals(1, reads.waited);
+        assertEquals(1, reads.timedOut);
+        assertEquals(0, reads.inUse);
+        assertEquals(2, reads.idle);
+        assertEquals(4, pool.getStats().leases);
+    }
+
+    @Test
+    public void IdleConnectionsAreEvicted() throws Exception
+    {
+        PlayFabSettings.ConnectionIdleTimeoutMilliseconds = 50;
+        PlayFabConnectionPool pool = new PlayFabConnectionPool();
+        pool.release(pool.acquire(HOST, 1000), true);
+        Thread.sleep(100);
+
+        assertFalse(pool.acquire(HOST, 1000).isReused());
+        PlayFabConnectionPool.Stats stats = pool.getStats();
+        assertEquals(1, stats.evicted);
+        assertEquals(0, stats.reused);
+        assertEquals(2, stats.created);
+    }
+
+    @Test
+    public void TheJvmWideConnectionLimitIsOnlySetOnRequest()
+    {
+        String saved = System.getProperty("http.maxConnections");
+        try {
+            System.clearProperty("http.maxConnections");
+            PlayFabSettings.SetHttpMaxConnections = false;
+            new PlayFabConnectionPool();
+            assertNull(System.getProperty("http.maxConnections"));
+
+            PlayFabSettings.SetHttpMaxConnections = true;
+            new PlayFabConnectionPool();
+            assertEquals(Integer.toString(PlayFabSettings.MaxConnectionsPerHost), System.getProperty("http.maxConnections"));
+        } finally {
+            if (saved == null)
+                System.clearProperty("http.maxConnections");
+            else
+                System.setProperty("http.maxConnections", saved);
+        }
+    }
+}
@@ -0,0 +1,86 @@
+package com.playfab.test;
+
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.*;
+
+import com.google.gson.*;
+
+import com.playfab.PlayFabServerModels;
+import com.playfab.internal.PlayFabDateTypeAdapter;
+import com.playfab.internal.PlayFabJson;
+
+/**
+ * Compares parsing throughput of date-heavy results across many threads, with Gson's SimpleDateFormat adapter (one lock
+ * shared by every thread) against the lock-free PlayFabDateTypeAdapter.
+ *
+ * Every thread parses the same GetUserData result, whose records each carry a LastUpdated timestamp. Run with:
+ *   mvn test-compile exec:java -Dexec.mainClass=com.playfab.test.PlayFabDateContentionBenchmark -Dexec.classpathScope=test
+ * Arguments: [threads] [parses per thread] [user data entries]
+ */
+public class PlayFabDateContentionBenchmark
+{
+    public static void main(String[] args) throws Exception
+    {
+        int threads = args.length > 0 ? Integer.parseInt(args[0]) : 64;
+        int parses = args.length > 1 ? Integer.parseInt(args[1]) : 5000;
+        int entries = args.length > 2 ? Integer.parseInt(args[2]) : 10;
+
+        StringBuilder data = new StringBuilder();
+        for (int i = 0; i < entries; i++)
+            data.append(i == 0 ? "" : ",").append("\"key").append(i).append("\":{\"Value\":\"value").append(i).append("\",\"LastUpdated\":\"2026-10-18T12:34:56.").append(100 + i).append("Z\",\"Permission\":\"Private\"}");
+        String json = "{\"PlayFabId\":\"1337D00D\",\"DataVersion\":7,\"Data\":{" + data + "}}";
+
+        Gson simpleDateFormat = new GsonBuilder().setDateFormat("yyyy-MM-dd'T'HH:mm:ss.SSS'Z'").create();
+        Gson codec = new GsonBuilder().registerTypeAdapter(Date.class, new PlayFabDateTypeAdapter()).create();
+
+        System.out.println("Threads: " + threads + ", parses per thread: " + parses + ", dates per parse: " + entries);
+        for (int round = 0; round < 2; round++) {
+            // The first round warms up the JIT
+            String label = round == 0 ? " (warm-up)" : "";
+            report("Reflective, SimpleDateFormat" + label, threads * parses, run(simpleDateFormat, json, threads, parses));
+            report("Reflective, ISO-8601 codec" + label, threads * parses, run(codec, json, threads, parses));
+            report("Registry, ISO-8601 codec" + label, threads * parses, run(PlayFabJson.getGson(), json, threads, parses));
+        }
+    }
+
+    private static long run(final Gson gson, final String json, int threads, final int parses) throws Exception
+    {
+        final CountDownLatch start = new CountDownLatch(1);
+        final AtomicReference<Throwable> failure = new AtomicReference<Throwable>();
+        List<Thread> workers = new ArrayList<Thread>();
+        for (int t = 0; t < threads; t++) {
+            Thread worker = new Thread(new Runnable() {
+                public void run() {
+                    try {
+                        start.await();
+                        for (int i = 0; i < parses; i++) {
+                            PlayFabServerModels.GetUserDataResult result = gson.fromJson(json, PlayFabServerModels.GetUserDataResult.class);
+                            if (result.Data.get("key0").LastUpdated == null)
+                                throw new IllegalStateException("Date not parsed");
+                        }
+                    } catch (Throwable e) {
+                        failure.compareAndSet(null, e);
+                    }
+                }
+            });
+            worker.start();
+            workers.add(worker);
+        }
+
+        long begin = System.nanoTime();
+        start.countDown();
+        for (Thread worker : workers)
+            worker.join();
+        long elapsed = System.nanoTime() - begin;
+        if (failure.get() != null)
+            throw new IllegalStateException(failure.get());
+        return elapsed;
+    }
+
+    private static void report(String name, int parses, long elapsedNanos)
+    {
+        double seconds = elapsedNanos / 1e9;
+        System.out.println(String.format("%-45s %10.0f parses/s (%.2f s)", name, parses / seconds, seconds));
+    }
+}
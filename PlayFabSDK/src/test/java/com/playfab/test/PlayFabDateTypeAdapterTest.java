@@ -0,0 +1,85 @@
+package com.playfab.test;
+
+import static org.junit.Assert.*;
+import org.junit.*;
+
+import java.text.SimpleDateFormat;
+import java.util.*;
+
+import com.google.gson.*;
+
+import com.playfab.PlayFabServerModels;
+import com.playfab.internal.PlayFabDateTypeAdapter;
+import com.playfab.internal.PlayFabJson;
+
+/**
+ * Dates are exchanged with the server as ISO-8601 UTC timestamps of varying precision
+ */
+public class PlayFabDateTypeAdapterTest
+{
+    private static final long INSTANT = 1634000096789L; // 2021-10-12T00:54:56.789Z
+
+    @Test
+    public void AcceptsVariablePrecision()
+    {
+        assertEquals(INSTANT - 789, PlayFabDateTypeAdapter.parse("2021-10-12T00:54:56Z"));
+        assertEquals(INSTANT - 89, PlayFabDateTypeAdapter.parse("2021-10-12T00:54:56.7Z"));
+        assertEquals(INSTANT - 9, PlayFabDateTypeAdapter.parse("2021-10-12T00:54:56.78Z"));
+        assertEquals(INSTANT, PlayFabDateTypeAdapter.parse("2021-10-12T00:54:56.789Z"));
+        assertEquals(INSTANT, PlayFabDateTypeAdapter.parse("2021-10-12T00:54:56.7891234Z"));
+        assertEquals(INSTANT - 56789, PlayFabDateTypeAdapter.parse("2021-10-12T00:54Z"));
+    }
+
+    @Test
+    public void AcceptsOffsetsAndMissingDesignator()
+    {
+        assertEquals(INSTANT, PlayFabDateTypeAdapter.parse("2021-10-12T00:54:56.789"));
+        assertEquals(INSTANT, PlayFabDateTypeAdapter.parse("2021-10-12T02:54:56.789+02:00"));
+        assertEquals(INSTANT, PlayFabDateTypeAdapter.parse("2021-10-11T19:24:56.789-0530"));
+        assertEquals(INSTANT, PlayFabDateTypeAdapter.parse("2021-10-12T01:54:56.789+01"));
+        assertEquals(INSTANT - (INSTANT % 86400000L), PlayFabDateTypeAdapter.parse("2021-10-12"));
+    }
+
+    @Test
+    public void RejectsInvalidText()
+    {
+        String[] invalid = { "", "2021", "2021-13-01T00:00:00Z", "2021-02-29T00:00:00Z", "2021-10-12T24:00:00Z",
+            "2021-10-12T00:00:00.Z", "2021-10-12T00:00:00Zjunk", "12/10/2021", "2021-10-12T00:00:00+25:00" };
+        for (String text : invalid) {
+            try {
+                PlayFabDateTypeAdapter.parse(text);
+                fail("Accepted " + text);
+            } catch (IllegalArgumentException expected) {
+            }
+        }
+    }
+
+    @Test
+    public void FormatMatchesUtcSimpleDateFormat()
+    {
+        SimpleDateFormat reference = new SimpleDateFormat("yyyy-MM-dd'T'HH:mm:ss.SSS'Z'", Locale.US);
+        reference.setTimeZone(TimeZone.getTimeZone("UTC"));
+        Random random = new Random(3);
+        for (int i = 0; i < 10000; i++) {
+            // 1970 to 2100, plus a few instants before the epoch
+            long millis = (long) (random.nextDouble() * 4102444800000L) - (i % 10 == 0 ? 1000000000000L : 0);
+            String formatted = PlayFabDateTypeAdapter.format(new Date(millis));
+            assertEquals(reference.format(new Date(millis)), formatted);
+            assertEquals(millis, PlayFabDateTypeAdapter.parse(formatted));
+        }
+    }
+
+    @Test
+    public void ModelsUseTheCodec()
+    {
+        PlayFabServerModels.UserDataRecord record = PlayFabJson.getGson().fromJson("{\"LastUpdated\":\"2021-10-12T00:54:56.7891234Z\"}", PlayFabServerModels.UserDataRecord.class);
+        assertEquals(INSTANT, record.LastUpdated.getTime());
+        assertEquals("{\"LastUpdated\":\"2021-10-12T00:54:56.789Z\"}", PlayFabJson.getGson().toJson(record));
+    }
+
+    @Test(expected = JsonSyntaxException.class)
+    public void InvalidModelDateIsASyntaxError()
+    {
+        PlayFabJson.getGson().fromJson("{\"LastUpdated\":\"yesterday\"}", PlayFabServerModels.UserDataRecord.class);
+    }
+}
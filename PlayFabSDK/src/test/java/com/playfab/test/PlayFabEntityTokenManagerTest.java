@@ -0,0 +1,314 @@
+package com.playfab.test;
+
+import static org.junit.Assert.*;
+import org.junit.*;
+
+import java.io.*;
+import java.net.*;
+import java.text.SimpleDateFormat;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.*;
+import java.util.regex.*;
+
+import com.sun.net.httpserver.*;
+
+import com.playfab.PlayFabApiContext;
+import com.playfab.PlayFabAuthenticationModels;
+import com.playfab.PlayFabDataAPI;
+import com.playfab.PlayFabDataInstanceAPI;
+import com.playfab.PlayFabDataModels;
+import com.playfab.PlayFabEntityTokenManager;
+import com.playfab.PlayFabErrors.*;
+import com.playfab.PlayFabFuture;
+import com.playfab.PlayFabServerAPI;
+import com.playfab.PlayFabServerModels;
+import com.playfab.PlayFabSettings;
+
+/**
+ * Entity tokens fetched, shared and refreshed ahead of expiry, against a local stub server. GetEntityToken answers after
+ * 200 milliseconds with a token named after the entity and numbered, expiring tokenLifetime milliseconds later, or with
+ * NotAuthenticated for the secret key "rejected"
+ */
+public class PlayFabEntityTokenManagerTest
+{
+    private static final Pattern ENTITY_ID = Pattern.compile("\"Entity\":\\{[^}]*\"Id\":\"(\\w+)\"");
+
+    private static HttpServer server;
+    private static final AtomicInteger tokenCalls = new AtomicInteger();
+    private static final Queue<String> entityTokens = new ConcurrentLinkedQueue<String>();
+    private static volatile long tokenLifetime = 60000;
+    private static String productionUrl;
+    private static String entityToken;
+    private static PlayFabApiContext credentials;
+
+    @BeforeClass
+    public static void startServer() throws IOException
+    {
+        server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 0);
+        server.setExecutor(Executors.newCachedThreadPool());
+        server.createContext("/", new HttpHandler() {
+            public void handle(HttpExchange exchange) throws IOException {
+                ByteArrayOutputStream body = new ByteArrayOutputStream();
+                InputStream input = exchange.getRequestBody();
+                for (int read = input.read(); read != -1; read = input.read())
+                    body.write(read);
+
+                String data = "{}";
+                if (exchange.getRequestURI().getPath().equals("/Authentication/GetEntityToken")) {
+                    int call = tokenCalls.incrementAndGet();
+                    try {
+                        Thread.sleep(200);
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    }
+                    if ("rejected".equals(exchange.getRequestHeaders().getFirst("X-SecretKey"))) {
+                        byte[] bytes = "{\"code\":401,\"status\":\"Unauthorized\",\"error\":\"NotAuthenticated\",\"errorCode\":1074,\"errorMessage\":\"Rejected\"}".getBytes("UTF-8");
+                        exchange.sendResponseHeaders(401, bytes.length);
+                        exchange.getResponseBody().write(bytes);
+                        exchange.close();
+                        return;
+                    }
+                    Matcher entity = ENTITY_ID.matcher(body.toString("UTF-8"));
+                    SimpleDateFormat format = new SimpleDateFormat("yyyy-MM-dd'T'HH:mm:ss.SSS'Z'");
+                    format.setTimeZone(TimeZone.getTimeZone("UTC"));
+                    data = "{\"EntityToken\":\"token-" + (entity.find() ? entity.group(1) : "self") + "-" + call + "\",\"TokenExpiration\":\""
+                        + format.format(new Date(System.currentTimeMillis() + tokenLifetime)) + "\"}";
+                } else {
+                    entityTokens.add(String.valueOf(exchange.getRequestHeaders().getFirst("X-EntityToken")));
+                }
+                byte[] bytes = ("{\"code\":200,\"status\":\"OK\",\"data\":" + data + "}").getBytes("UTF-8");
+                exchange.sendResponseHeaders(200, bytes.length);
+                exchange.getResponseBody().write(bytes);
+                exchange.close();
+            }
+        });
+        server.start();
+
+        productionUrl = PlayFabSettings.ProductionEnvironmentUrl;
+        entityToken = PlayFabSettings.EntityToken;
+        PlayFabSettings.ProductionEnvironmentUrl = "http://127.0.0.1:" + server.getAddress().getPort();
+        credentials = PlayFabApiContext.fromSettings().withDeveloperSecretKey("token-test").withEntityToken(null);
+    }
+
+    @AfterClass
+    public static void stopServer()
+    {
+        server.stop(0);
+        PlayFabSettings.ProductionEnvironmentUrl = productionUrl;
+        PlayFabSettings.EntityToken = entityToken;
+    }
+
+    @Before
+    public void reset()
+    {
+        tokenCalls.set(0);
+        entityTokens.clear();
+        tokenLifetime = 60000;
+    }
+
+    @After
+    public void removeManager()
+    {
+        PlayFabSettings.EntityTokenManager = null;
+    }
+
+    private static PlayFabAuthenticationModels.EntityKey entity(String type, String id)
+    {
+        PlayFabAuthenticationModels.EntityKey key = new PlayFabAuthenticationModels.EntityKey();
+        key.Type = type;
+        key.Id = id;
+        return key;
+    }
+
+    @Test
+    public void ConcurrentReadersShareOneRefreshWithoutWaiting() throws Exception
+    {
+        final PlayFabEntityTokenManager manager = new PlayFabEntityTokenManager(credentials, 10000);
+        try {
+            final CountDownLatch start = new CountDownLatch(1);
+            final AtomicLong slowestRead = new AtomicLong();
+            List<Thread> readers = new ArrayList<Thread>();
+            for (int i = 0; i < 16; i++) {
+                Thread reader = new Thread(new Runnable() {
+                    public void run() {
+                        try {
+                            start.await();
+                        } catch (InterruptedException e) {
+                            return;
+                        }
+                        long begin = System.nanoTime();
+                        assertNull(manager.getEntityToken());
+                        long took = System.nanoTime() - begin;
+                        while (true) {
+                            long slowest = slowestRead.get();
+                            if (took <= slowest || slowestRead.compareAndSet(slowest, took))
+                                break;
+                        }
+                    }
+                });
+                reader.start();
+                readers.add(reader);
+            }
+            start.countDown();
+            for (Thread reader : readers)
+                reader.join();
+            assertTrue(TimeUnit.NANOSECONDS.toMillis(slowestRead.get()) < 100);
+
+            PlayFabResult<PlayFabAuthenticationModels.GetEntityTokenResponse> result = manager.refresh(null).get(10, TimeUnit.SECONDS);
+            assertNull(result.Error);
+            assertEquals("token-self-1", manager.getEntityToken());
+            assertEquals(1, tokenCalls.get());
+            assertEquals(1, manager.getStats().refreshes);
+            assertTrue(manager.getStats().coalesced >= 15);
+        } finally {
+            manager.close();
+        }
+    }
+
+    @Test
+    public void TokensAreReplacedBeforeTheyExpire() throws Exception
+    {
+        tokenLifetime = 1200;
+        PlayFabEntityTokenManager manager = new PlayFabEntityTokenManager(credentials, 400);
+        try {
+            assertNull(manager.refresh(null).get(10, TimeUnit.SECONDS).Error);
+            assertEquals("token-self-1", manager.getEntityToken());
+            assertNotNull(manager.getTokenExpiration(null));
+
+            // Refreshed in the background at about 800 milliseconds, with no reads to prompt it
+            Thread.sleep(1300);
+            assertEquals(2, tokenCalls.get());
+            assertEquals("token-self-2", manager.getEntityToken());
+        } finally {
+            manager.close();
+        }
+    }
+
+    @Test
+    public void TheStaticApisUseTheManagersToken() throws Exception
+    {
+        PlayFabEntityTokenManager manager = new PlayFabEntityTokenManager(credentials, 10000);
+        try {
+            assertNull(manager.refresh(null).get(10, TimeUnit.SECONDS).Error);
+            PlayFabSettings.EntityToken = "stale";
+            PlayFabSettings.EntityTokenManager = manager;
+
+            assertNull(PlayFabDataAPI.GetObjects(new PlayFabDataModels.GetObjectsRequest()).Error);
+            assertEquals("token-self-1", entityTokens.poll());
+
+            PlayFabSettings.EntityTokenManager = null;
+            assertNull(PlayFabDataAPI.GetObjects(new PlayFabDataModels.GetObjectsRequest()).Error);
+            assertEquals("stale", entityTokens.poll());
+        } finally {
+            manager.close();
+        }
+    }
+
+    @Test
+    public void OnlyEntityEndpointsAskTheManager() throws Exception
+    {
+        String developerSecretKey = PlayFabSettings.DeveloperSecretKey;
+        PlayFabEntityTokenManager manager = new PlayFabEntityTokenManager(credentials, 10000);
+        try {
+            PlayFabSettings.DeveloperSecretKey = "token-test";
+            PlayFabSettings.EntityTokenManager = manager;
+            assertNull(PlayFabServerAPI.GetTitleData(new PlayFabServerModels.GetTitleDataRequest()).Error);
+            assertEquals(0, manager.getStats().misses);
+            assertEquals(0, tokenCalls.get());
+            entityTokens.clear();
+
+            // Settings changed between calls are seen by the next one
+            PlayFabSettings.EntityToken = "changed";
+            assertNull(PlayFabDataAPI.GetObjects(new PlayFabDataModels.GetObjectsRequest()).Error);
+            assertEquals("changed", entityTokens.poll());
+            // The token is read once for both the check and the header
+            assertEquals(1, manager.getStats().misses);
+        } finally {
+            PlayFabSettings.DeveloperSecretKey = developerSecretKey;
+            manager.close();
+        }
+    }
+
+    @Test
+    public void EachEntityHasItsOwnToken() throws Exception
+    {
+        PlayFabEntityTokenManager manager = new PlayFabEntityTokenManager(credentials, 10000);
+        try {
+            PlayFabAuthenticationModels.EntityKey alice = entity("master_player_account", "alice");
+            PlayFabAuthenticationModels.EntityKey bob = entity("master_player_account", "bob");
+            manager.refresh(alice).get(10, TimeUnit.SECONDS);
+            manager.refresh(bob).get(10, TimeUnit.SECONDS);
+
+            PlayFabDataInstanceAPI aliceData = new PlayFabDataInstanceAPI(credentials);
+            aliceData.setEntityTokenManager(manager, alice);
+            PlayFabDataInstanceAPI bobData = new PlayFabDataInstanceAPI(credentials);
+            bobData.setEntityTokenManager(manager, bob);
+            assertNull(aliceData.GetObjects(new PlayFabDataModels.GetObjectsRequest()).Error);
+            assertNull(bobData.async().GetObjects(new PlayFabDataModels.GetObjectsRequest()).get(10, TimeUnit.SECONDS).Error);
+
+            assertTrue(entityTokens.poll().startsWith("token-alice-"));
+            assertTrue(entityTokens.poll().startsWith("token-bob-"));
+            assertTrue(aliceData.getContext().getEntityToken().startsWith("token-alice-"));
+            assertEquals(2, manager.getStats().entities);
+        } finally {
+            manager.close();
+        }
+    }
+
+    @Test
+    public void SuppliedTokensAreServedUntilDue() throws Exception
+    {
+        PlayFabEntityTokenManager manager = new PlayFabEntityTokenManager(credentials, 10000);
+        try {
+            manager.setEntityToken(null, "from-login", new Date(System.currentTimeMillis() + 60000));
+            assertEquals("from-login", manager.getEntityToken());
+            assertEquals(0, tokenCalls.get());
+
+            // The current token is still served while its replacement is fetched
+            manager.setEntityToken(null, "nearly-expired", new Date(System.currentTimeMillis() + 5000));
+            PlayFabFuture<PlayFabResult<PlayFabAuthenticationModels.GetEntityTokenResponse>> refresh = manager.refresh(null);
+            assertEquals("nearly-expired", manager.getEntityToken());
+            assertNull(refresh.get(10, TimeUnit.SECONDS).Error);
+            assertEquals("token-self-1", manager.getEntityToken());
+            assertEquals(1, tokenCalls.get());
+        } finally {
+            manager.close();
+        }
+    }
+
+    @Test
+    public void ReadersWaitOutTheBackoffAfterAFailedRefresh() throws Exception
+    {
+        final PlayFabEntityTokenManager manager = new PlayFabEntityTokenManager(credentials.withDeveloperSecretKey("rejected"), 10000);
+        try {
+            final long until = System.currentTimeMillis() + 700;
+            List<Thread> readers = new ArrayList<Thread>();
+            for (int i = 0; i < 8; i++) {
+                Thread reader = new Thread(new Runnable() {
+                    public void run() {
+                        try {
+                            while (System.currentTimeMillis() < until) {
+                                assertNull(manager.getEntityToken());
+                                Thread.sleep(1);
+                            }
+                        } catch (InterruptedException e) {
+                            Thread.currentThread().interrupt();
+                        }
+                    }
+                });
+                reader.start();
+                readers.add(reader);
+            }
+            for (Thread reader : readers)
+                reader.join();
+
+            // One call failed at about 200 milliseconds, and the next is not due until a second after that
+            assertEquals(1, tokenCalls.get());
+            assertEquals(1, manager.getStats().failures);
+            assertTrue(manager.getStats().misses > 8);
+        } finally {
+            manager.close();
+        }
+    }
+}
@@ -0,0 +1,369 @@
+package com.playfab.test;
+
+import static org.junit.Assert.*;
+import org.junit.*;
+
+import java.io.*;
+import java.net.*;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.*;
+
+import com.google.gson.*;
+import com.sun.net.httpserver.*;
+
+import com.playfab.PlayFabErrors.*;
+import com.playfab.PlayFabEventPipeline;
+import com.playfab.PlayFabEventsModels.*;
+import com.playfab.PlayFabSettings;
+
+/**
+ * Event batching against a local stub server, so it runs without a PlayFab title
+ */
+public class PlayFabEventPipelineTest
+{
+    private static HttpServer server;
+    private static String productionUrl;
+    private static String entityToken;
+
+    // Read and written by the stub
+    private static final Queue<Integer> batchSizes = new ConcurrentLinkedQueue<Integer>();
+    private static final Queue<Integer> batchBytes = new ConcurrentLinkedQueue<Integer>();
+    private static final AtomicInteger received = new AtomicInteger();
+    private static final Set<String> receivedNames = Collections.newSetFromMap(new ConcurrentHashMap<String, Boolean>());
+    private static volatile long responseDelayMilliseconds = 0;
+    private static volatile String lastPath = null;
+    private static volatile boolean failRequests = false;
+
+    @BeforeClass
+    public static void startServer() throws IOException
+    {
+        server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 0);
+        server.setExecutor(Executors.newCachedThreadPool());
+        server.createContext("/", new HttpHandler() {
+            public void handle(HttpExchange exchange) throws IOException {
+                lastPath = exchange.getRequestURI().getPath();
+                String json = readAll(exchange.getRequestBody());
+                JsonArray events = new JsonParser().parse(json).getAsJsonObject().getAsJsonArray("Events");
+                batchSizes.add(events.size());
+                batchBytes.add(json.length());
+                received.addAndGet(events.size());
+                for (JsonElement event : events)
+                    receivedNames.add(event.getAsJsonObject().get("Name").getAsString());
+                if (responseDelayMilliseconds > 0) {
+                    try {
+                        Thread.sleep(responseDelayMilliseconds);
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    }
+                }
+
+                int status = failRequests ? 400 : 200;
+                String response = failRequests
+                    ? "{\"code\":400,\"status\":\"BadRequest\",\"error\":\"InvalidParams\",\"errorCode\":1000,\"errorMessage\":\"Rejected by the stub\"}"
+                    : "{\"code\":200,\"status\":\"OK\",\"data\":{\"AssignedEventIds\":[]}}";
+                byte[] bytes = response.getBytes("UTF-8");
+                exchange.sendResponseHeaders(status, bytes.length);
+                exchange.getResponseBody().write(bytes);
+                exchange.close();
+            }
+        });
+        server.start();
+
+        productionUrl = PlayFabSettings.ProductionEnvironmentUrl;
+        entityToken = PlayFabSettings.EntityToken;
+        PlayFabSettings.ProductionEnvironmentUrl = "http://127.0.0.1:" + server.getAddress().getPort();
+        PlayFabSettings.EntityToken = "event-pipeline-test";
+    }
+
+    @AfterClass
+    public static void stopServer()
+    {
+        server.stop(0);
+        PlayFabSettings.ProductionEnvironmentUrl = productionUrl;
+        PlayFabSettings.EntityToken = entityToken;
+    }
+
+    @Before
+    public void resetStub()
+    {
+        batchSizes.clear();
+        batchBytes.clear();
+        received.set(0);
+        receivedNames.clear();
+        responseDelayMilliseconds = 0;
+        lastPath = null;
+        failRequests = false;
+    }
+
+    @Test
+    public void BacklogIsSplitIntoServiceSizedBatches() throws Exception
+    {
+        PlayFabEventPipeline pipeline = new PlayFabEventPipeline();
+        for (int i = 0; i < 1000; i++)
+            assertTrue(pipeline.add(event(i, 0)));
+        assertTrue(pipeline.flush(10000));
+
+        assertEquals(1000, received.get());
+        for (int size : batchSizes)
+            assertTrue(size <= PlayFabEventPipeline.MAX_EVENTS_PER_REQUEST);
+        PlayFabEventPipeline.Stats stats = pipeline.getStats();
+        assertEquals(1000, stats.sent);
+        assertEquals(0, stats.pending);
+        assertEquals(batchSizes.size(), stats.batches);
+        assertEquals("/Event/WriteEvents", lastPath);
+        pipeline.close();
+    }
+
+    @Test
+    public void PartialBatchIsSentAfterMaxLatency() throws Exception
+    {
+        PlayFabEventPipeline.Settings settings = new PlayFabEventPipeline.Settings();
+        settings.MaxLatencyMilliseconds = 200;
+        PlayFabEventPipeline pipeline = new PlayFabEventPipeline(settings);
+        for (int i = 0; i < 3; i++)
+            pipeline.add(event(i, 0));
+
+        assertTrue(waitForEvents(3, 5000));
+        assertEquals(Arrays.asList(3), new ArrayList<Integer>(batchSizes));
+        pipeline.close();
+    }
+
+    @Test
+    public void FullBatchIsSentWithoutWaitingForLatency() throws Exception
+    {
+        PlayFabEventPipeline.Settings settings = new PlayFabEventPipeline.Settings();
+        settings.MaxLatencyMilliseconds = 60000;
+        settings.MaxBatchSize = 50;
+        PlayFabEventPipeline pipeline = new PlayFabEventPipeline(settings);
+        for (int i = 0; i < 50; i++)
+            pipeline.add(event(i, 0));
+
+        assertTrue(waitForEvents(50, 5000));
+        pipeline.close();
+    }
+
+    @Test
+    public void ByteLimitSplitsBatches() throws Exception
+    {
+        PlayFabEventPipeline.Settings settings = new PlayFabEventPipeline.Settings();
+        settings.MaxBatchBytes = 2000;
+        PlayFabEventPipeline pipeline = new PlayFabEventPipeline(settings);
+        for (int i = 0; i < 20; i++)
+            pipeline.add(event(i, 400));
+        assertTrue(pipeline.flush(10000));
+
+        assertEquals(20, received.get());
+        assertTrue(batchSizes.size() >= 5);
+        for (int bytes : batchBytes)
+            assertTrue(bytes < 2200); // The limit covers the events, not the request envelope
+        pipeline.close();
+    }
+
+    @Test
+    public void EventsAreMeasuredOnceWhenAdded() throws Exception
+    {
+        PlayFabEventPipeline.Settings settings = new PlayFabEventPipeline.Settings();
+        settings.MaxBatchBytes = 2000;
+        settings.MaxLatencyMilliseconds = 60000;
+        PlayFabEventPipeline pipeline = new PlayFabEventPipeline(settings);
+        for (int i = 0; i < 20; i++) {
+            EventContents event = event(i, 0);
+            CountedMap payload = new CountedMap();
+            payload.put("text", "<\"caf\u00e9\" & \u65e5\u672c>");
+            payload.put("values", Arrays.asList(1, 2.5, true, null));
+            payload.put("padding", event(i, 300).Payload);
+            event.Payload = payload;
+            pipeline.add(event);
+        }
+        assertEquals(20, CountedMap.reads.get());
+        assertTrue(pipeline.flush(10000));
+
+        // Sending serializes each payload once more, and the estimates keep batches to the byte limit
+        assertEquals(40, CountedMap.reads.get());
+        assertEquals(20, received.get());
+        assertTrue(batchSizes.size() >= 4);
+        for (int bytes : batchBytes)
+            assertTrue(bytes < 2200);
+        pipeline.close();
+    }
+
+    @Test
+    public void TelemetryUsesWriteTelemetryEvents() throws Exception
+    {
+        PlayFabEventPipeline.Settings settings = new PlayFabEventPipeline.Settings();
+        settings.Telemetry = true;
+        PlayFabEventPipeline pipeline = new PlayFabEventPipeline(settings);
+        pipeline.add(event(0, 0));
+        assertTrue(pipeline.flush(10000));
+        assertEquals("/Event/WriteTelemetryEvents", lastPath);
+        pipeline.close();
+    }
+
+    @Test
+    public void FailedBatchesAreReported() throws Exception
+    {
+        final AtomicInteger reported = new AtomicInteger();
+        PlayFabEventPipeline.Settings settings = new PlayFabEventPipeline.Settings();
+        settings.BatchHandler = new PlayFabEventPipeline.BatchCallback() {
+            public void onBatchComplete(List<EventContents> events, PlayFabResult<WriteEventsResponse> result, Throwable error) {
+                if (result != null && result.Error != null)
+                    reported.addAndGet(events.size());
+            }
+        };
+        failRequests = true;
+        PlayFabEventPipeline pipeline = new PlayFabEventPipeline(settings);
+        for (int i = 0; i < 10; i++)
+            pipeline.add(event(i, 0));
+        assertTrue(pipeline.flush(10000));
+
+        assertEquals(10, reported.get());
+        assertEquals(10, pipeline.getStats().failed);
+        assertEquals(0, pipeline.getStats().sent);
+        pipeline.close();
+    }
+
+    @Test
+    public void CloseSendsQueuedEventsAndRejectsNewOnes() throws Exception
+    {
+        PlayFabEventPipeline.Settings settings = new PlayFabEventPipeline.Settings();
+        settings.MaxLatencyMilliseconds = 60000;
+        PlayFabEventPipeline pipeline = new PlayFabEventPipeline(settings);
+        for (int i = 0; i < 5; i++)
+            pipeline.add(event(i, 0));
+        pipeline.close();
+
+        assertEquals(5, received.get());
+        assertFalse(pipeline.add(event(5, 0)));
+    }
+
+    @Test
+    public void DropNewestBoundsTheQueue() throws Exception
+    {
+        PlayFabEventPipeline pipeline = new PlayFabEventPipeline(slowSettings(PlayFabEventPipeline.Backpressure.DropNewest));
+        int accepted = 0;
+        for (int i = 0; i < 200; i++) {
+            if (pipeline.add(event(i, 0)))
+                accepted++;
+            assertTrue(pipeline.getStats().pending <= 20);
+        }
+        PlayFabEventPipeline.Stats stats = pipeline.getStats();
+        assertEquals(200 - accepted, stats.dropped);
+        assertEquals(stats.dropped, pipeline.getNamespaceStats().get("custom.test").dropped);
+        assertFalse(receivedNames.contains("event199"));
+        pipeline.close();
+        assertEquals(accepted, received.get());
+    }
+
+    @Test
+    public void DropOldestKeepsTheNewestEvents() throws Exception
+    {
+        PlayFabEventPipeline pipeline = new PlayFabEventPipeline(slowSettings(PlayFabEventPipeline.Backpressure.DropOldest));
+        for (int i = 0; i < 200; i++)
+            assertTrue(pipeline.add(event(i, 0)));
+        pipeline.close();
+
+        PlayFabEventPipeline.Stats stats = pipeline.getStats();
+        assertTrue(stats.dropped > 0);
+        assertEquals(200, stats.sent + stats.dropped);
+        assertTrue(receivedNames.contains("event199"));
+    }
+
+    @Test
+    public void BlockDelaysTheProducer() throws Exception
+    {
+        PlayFabEventPipeline.Settings settings = slowSettings(PlayFabEventPipeline.Backpressure.Block);
+        settings.BlockTimeoutMilliseconds = 20;
+        PlayFabEventPipeline pipeline = new PlayFabEventPipeline(settings);
+        for (int i = 0; i < 100; i++)
+            pipeline.add(event(i, 0));
+        pipeline.close();
+
+        PlayFabEventPipeline.Stats stats = pipeline.getStats();
+        assertTrue(stats.delayed > 0);
+        assertEquals(stats.delayed, pipeline.getNamespaceStats().get("custom.test").delayed);
+        assertEquals(100, stats.sent + stats.dropped);
+    }
+
+    @Test
+    public void SamplingAppliesEachNamespaceRate() throws Exception
+    {
+        PlayFabEventPipeline.Settings settings = new PlayFabEventPipeline.Settings();
+        settings.Backpressure = PlayFabEventPipeline.Backpressure.SampleByNamespace;
+        settings.SampleAboveFraction = 0;
+        settings.DefaultSampleRate = 0;
+        settings.SampleRates = new HashMap<String, Double>();
+        settings.SampleRates.put("custom.keep", 1.0);
+        PlayFabEventPipeline pipeline = new PlayFabEventPipeline(settings);
+        for (int i = 0; i < 100; i++) {
+            EventContents kept = event(i, 0);
+            kept.EventNamespace = "custom.keep";
+            assertTrue(pipeline.add(kept));
+            assertFalse(pipeline.add(event(i, 0)));
+        }
+        pipeline.close();
+
+        assertEquals(100, received.get());
+        assertEquals(100, pipeline.getNamespaceStats().get("custom.test").dropped);
+        assertNull(pipeline.getNamespaceStats().get("custom.keep"));
+    }
+
+    // Helpers
+    // A queue of 20 drained one small batch at a time by a slow server, so producers outrun it
+    private static PlayFabEventPipeline.Settings slowSettings(PlayFabEventPipeline.Backpressure backpressure)
+    {
+        responseDelayMilliseconds = 50;
+        PlayFabEventPipeline.Settings settings = new PlayFabEventPipeline.Settings();
+        settings.MaxPendingEvents = 20;
+        settings.MaxBatchSize = 5;
+        settings.MinBatchSize = 5;
+        settings.MaxConcurrentBatches = 1;
+        settings.Backpressure = backpressure;
+        return settings;
+    }
+
+    // A payload that counts how often it is read, by the pipeline or by serialization
+    private static class CountedMap extends LinkedHashMap<String, Object>
+    {
+        private static final AtomicInteger reads = new AtomicInteger();
+
+        public Set<Map.Entry<String, Object>> entrySet()
+        {
+            reads.incrementAndGet();
+            return super.entrySet();
+        }
+    }
+
+    private static EventContents event(int index, int payloadChars)
+    {
+        EventContents event = new EventContents();
+        event.EventNamespace = "custom.test";
+        event.Name = "event" + index;
+        StringBuilder payload = new StringBuilder();
+        for (int i = 0; i < payloadChars; i++)
+            payload.append('x');
+        event.Payload = payload.toString();
+        return event;
+    }
+
+    private static boolean waitForEvents(int count, long timeoutMilliseconds) throws InterruptedException
+    {
+        long deadline = System.currentTimeMillis() + timeoutMilliseconds;
+        while (received.get() < count) {
+            if (System.currentTimeMillis() > deadline)
+                return false;
+            Thread.sleep(10);
+        }
+        return true;
+    }
+
+    private static String readAll(InputStream in) throws IOException
+    {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        byte[] buffer = new byte[4096];
+        int read;
+        while ((read = in.read(buffer)) != -1)
+            out.write(buffer, 0, read);
+        return new String(out.toByteArray(), "UTF-8");
+    }
+}
@@ -0,0 +1,353 @@
+package com.playfab.test;
+
+import static org.junit.Assert.*;
+import org.junit.*;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.*;
+import java.net.*;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.*;
+
+import com.google.gson.*;
+import com.sun.net.httpserver.*;
+
+import com.playfab.PlayFabEventPipeline;
+import com.playfab.PlayFabEventSpool;
+import com.playfab.PlayFabEventsModels.*;
+import com.playfab.PlayFabSettings;
+
+/**
+ * Spool storage and replay on a temporary directory, and sending against a local stub server
+ */
+public class PlayFabEventSpoolTest
+{
+    private static final String UNAVAILABLE = "{\"code\":503,\"status\":\"ServiceUnavailable\",\"error\":\"ServiceUnavailable\",\"errorCode\":1123,\"errorMessage\":\"Try again\"}";
+    private static final String NOT_ENABLED = "{\"code\":400,\"status\":\"BadRequest\",\"error\":\"CustomAnalyticsEventsNotEnabledForTitle\",\"errorCode\":1087,\"errorMessage\":\"Not enabled\"}";
+    private static final String INVALID = "{\"code\":400,\"status\":\"BadRequest\",\"error\":\"InvalidParams\",\"errorCode\":1000,\"errorMessage\":\"Invalid\"}";
+
+    private static HttpServer server;
+    private static String productionUrl;
+    private static String entityToken;
+
+    // Read and written by the stub
+    private static final Queue<Integer> batchSizes = new ConcurrentLinkedQueue<Integer>();
+    private static final Set<String> receivedNames = Collections.newSetFromMap(new ConcurrentHashMap<String, Boolean>());
+    private static final AtomicInteger failuresLeft = new AtomicInteger();
+    private static volatile String failure = UNAVAILABLE;
+    private static volatile long delayMilliseconds = 0;
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    @BeforeClass
+    public static void startServer() throws IOException
+    {
+        server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 0);
+        server.setExecutor(Executors.newCachedThreadPool());
+        server.createContext("/", new HttpHandler() {
+            public void handle(HttpExchange exchange) throws IOException {
+                String json = readAll(exchange.getRequestBody());
+                try {
+                    Thread.sleep(delayMilliseconds);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                String response;
+                int status;
+                if (failuresLeft.getAndDecrement() > 0) {
+                    response = failure;
+                    status = Integer.parseInt(response.substring(8, 11));
+                } else {
+                    JsonArray events = new JsonParser().parse(json).getAsJsonObject().getAsJsonArray("Events");
+                    batchSizes.add(events.size());
+                    for (JsonElement event : events)
+                        receivedNames.add(event.getAsJsonObject().get("Name").getAsString());
+                    status = 200;
+                    response = "{\"code\":200,\"status\":\"OK\",\"data\":{\"AssignedEventIds\":[]}}";
+                }
+                byte[] bytes = response.getBytes("UTF-8");
+                exchange.sendResponseHeaders(status, bytes.length);
+                exchange.getResponseBody().write(bytes);
+                exchange.close();
+            }
+        });
+        server.start();
+
+        productionUrl = PlayFabSettings.ProductionEnvironmentUrl;
+        entityToken = PlayFabSettings.EntityToken;
+        PlayFabSettings.ProductionEnvironmentUrl = "http://127.0.0.1:" + server.getAddress().getPort();
+        PlayFabSettings.EntityToken = "event-spool-test";
+    }
+
+    @AfterClass
+    public static void stopServer()
+    {
+        server.stop(0);
+        PlayFabSettings.ProductionEnvironmentUrl = productionUrl;
+        PlayFabSettings.EntityToken = entityToken;
+    }
+
+    @Before
+    public void resetStub()
+    {
+        batchSizes.clear();
+        receivedNames.clear();
+        failuresLeft.set(0);
+        failure = UNAVAILABLE;
+        delayMilliseconds = 0;
+    }
+
+    @Test
+    public void UnsentEventsAreReplayedAfterReopening() throws Exception
+    {
+        PlayFabEventSpool.Settings settings = storeOnly();
+        PlayFabEventSpool spool = new PlayFabEventSpool(settings);
+        for (int i = 0; i < 100; i++)
+            assertTrue(spool.append(event(i, 0)));
+        spool.close();
+        assertFalse(spool.append(event(100, 0)));
+
+        spool = new PlayFabEventSpool(settings);
+        assertEquals(100, spool.getStats().replayed);
+        assertEquals(100, spool.getStats().pending);
+        spool.close();
+    }
+
+    @Test
+    public void CorruptRecordEndsItsSegment() throws Exception
+    {
+        PlayFabEventSpool.Settings settings = storeOnly();
+        PlayFabEventSpool spool = new PlayFabEventSpool(settings);
+        for (int i = 0; i < 10; i++)
+            spool.append(event(i, 0));
+        spool.close();
+
+        // Flip a byte in the middle of the first segment, as a torn write would leave it
+        File segment = settings.Directory.listFiles(new FilenameFilter() {
+            public boolean accept(File dir, String name) {
+                return name.endsWith(".seg");
+            }
+        })[0];
+        int recordBytes = 8 + event(0, 0).Name.length() + 40;
+        RandomAccessFile file = new RandomAccessFile(segment, "rw");
+        file.seek(recordBytes * 5);
+        int b = file.read();
+        file.seek(recordBytes * 5);
+        file.write(b ^ 0xFF);
+        file.close();
+
+        spool = new PlayFabEventSpool(settings);
+        long replayed = spool.getStats().replayed;
+        assertTrue(replayed >= 3 && replayed < 10);
+        spool.close();
+    }
+
+    @Test
+    public void RetentionEvictsTheOldestSegments() throws Exception
+    {
+        PlayFabEventSpool.Settings settings = storeOnly();
+        settings.SegmentBytes = 4096;
+        settings.MaxSpoolBytes = 8192;
+        PlayFabEventSpool spool = new PlayFabEventSpool(settings);
+        for (int i = 0; i < 200; i++)
+            assertTrue(spool.append(event(i, 200)));
+        PlayFabEventSpool.Stats stats = spool.getStats();
+        assertTrue(stats.evicted > 0);
+        assertEquals(2, stats.segments);
+        assertEquals(200 - stats.evicted, stats.pending);
+        spool.close();
+
+        spool = new PlayFabEventSpool(settings);
+        assertEquals(stats.pending, spool.getStats().replayed);
+        spool.close();
+    }
+
+    @Test
+    public void EventsEvictedWhileTheirBatchIsInFlightAreCountedOnce() throws Exception
+    {
+        delayMilliseconds = 500;
+        PlayFabEventSpool.Settings settings = sending();
+        settings.SegmentBytes = 4096;
+        settings.MaxSpoolBytes = 8192;
+        PlayFabEventSpool spool = new PlayFabEventSpool(settings);
+        for (int i = 0; i < 10; i++)
+            spool.append(event(i, 200));
+        Thread.sleep(200);
+
+        // The first batch is with the stub while these roll its segment out of the spool
+        for (int i = 10; i < 100; i++)
+            spool.append(event(i, 200));
+        long deadline = System.currentTimeMillis() + 20000;
+        while (spool.getStats().pending > 0 && System.currentTimeMillis() < deadline)
+            Thread.sleep(10);
+
+        PlayFabEventSpool.Stats stats = spool.getStats();
+        assertTrue(stats.evicted > 0);
+        assertEquals(0, stats.pending);
+        assertEquals(100, stats.sent + stats.evicted);
+        spool.close();
+    }
+
+    @Test
+    public void OversizedEventIsRefused() throws Exception
+    {
+        PlayFabEventSpool.Settings settings = storeOnly();
+        settings.SegmentBytes = 4096;
+        PlayFabEventSpool spool = new PlayFabEventSpool(settings);
+        assertFalse(spool.append(event(0, 5000)));
+        assertEquals(1, spool.getStats().oversized);
+        spool.close();
+    }
+
+    @Test
+    public void OverlappingSyncsShareOneForce() throws Exception
+    {
+        PlayFabEventSpool.Settings settings = storeOnly();
+        settings.SyncIntervalMilliseconds = 60000;
+        PlayFabEventSpool spool = new PlayFabEventSpool(settings);
+        spool.append(event(0, 0));
+        spool.sync();
+        long syncs = spool.getStats().syncs;
+        spool.sync();
+        assertEquals(syncs, spool.getStats().syncs);
+        spool.close();
+    }
+
+    @Test
+    public void SenderDrainsTheSpoolInServiceSizedBatches() throws Exception
+    {
+        PlayFabEventSpool.Settings settings = sending();
+        PlayFabEventSpool spool = new PlayFabEventSpool(settings);
+        for (int i = 0; i < 450; i++)
+            spool.append(event(i, 0));
+        assertTrue(waitForSent(spool, 450, 10000));
+        assertEquals(450, receivedNames.size());
+        for (int size : batchSizes)
+            assertTrue(size <= PlayFabEventPipeline.MAX_EVENTS_PER_REQUEST);
+        spool.close();
+
+        // Acknowledged events are not replayed
+        settings.Send = false;
+        spool = new PlayFabEventSpool(settings);
+        assertEquals(0, spool.getStats().replayed);
+        spool.close();
+    }
+
+    @Test
+    public void FailedBatchIsSentAgain() throws Exception
+    {
+        failuresLeft.set(2);
+        PlayFabEventSpool spool = new PlayFabEventSpool(sending());
+        for (int i = 0; i < 20; i++)
+            spool.append(event(i, 0));
+        assertTrue(waitForSent(spool, 20, 10000));
+        assertEquals(20, receivedNames.size());
+        spool.close();
+    }
+
+    @Test
+    public void OtherBadRequestsKeepTheBatch() throws Exception
+    {
+        failure = NOT_ENABLED;
+        failuresLeft.set(2);
+        PlayFabEventSpool spool = new PlayFabEventSpool(sending());
+        for (int i = 0; i < 20; i++)
+            spool.append(event(i, 0));
+        assertTrue(waitForSent(spool, 20, 10000));
+        assertEquals(20, receivedNames.size());
+        assertEquals(0, spool.getStats().rejected);
+        spool.close();
+    }
+
+    @Test
+    public void InvalidEventsAreDropped() throws Exception
+    {
+        failure = INVALID;
+        failuresLeft.set(1);
+        PlayFabEventSpool.Settings settings = sending();
+        settings.MaxBatchDelayMilliseconds = 200;
+        PlayFabEventSpool spool = new PlayFabEventSpool(settings);
+        for (int i = 0; i < 20; i++)
+            spool.append(event(i, 0));
+        long deadline = System.currentTimeMillis() + 10000;
+        while (spool.getStats().rejected < 20 && System.currentTimeMillis() < deadline)
+            Thread.sleep(10);
+        assertEquals(20, spool.getStats().rejected);
+
+        spool.append(event(20, 0));
+        assertTrue(waitForSent(spool, 1, 10000));
+        assertEquals(Collections.singleton("event20"), receivedNames);
+        spool.close();
+    }
+
+    @Test
+    public void ReplayedEventsAreSent() throws Exception
+    {
+        PlayFabEventSpool.Settings settings = storeOnly();
+        PlayFabEventSpool spool = new PlayFabEventSpool(settings);
+        for (int i = 0; i < 30; i++)
+            spool.append(event(i, 0));
+        spool.close();
+
+        settings.Send = true;
+        settings.MaxBatchDelayMilliseconds = 10;
+        spool = new PlayFabEventSpool(settings);
+        assertTrue(waitForSent(spool, 30, 10000));
+        assertEquals(30, receivedNames.size());
+        spool.close();
+    }
+
+    // Helpers
+    private PlayFabEventSpool.Settings storeOnly() throws IOException
+    {
+        PlayFabEventSpool.Settings settings = new PlayFabEventSpool.Settings();
+        settings.Directory = folder.newFolder();
+        settings.SegmentBytes = 64 * 1024;
+        settings.Send = false;
+        return settings;
+    }
+
+    private PlayFabEventSpool.Settings sending() throws IOException
+    {
+        PlayFabEventSpool.Settings settings = storeOnly();
+        settings.Send = true;
+        settings.MaxBatchDelayMilliseconds = 10;
+        settings.MinRetryMilliseconds = 10;
+        return settings;
+    }
+
+    private static EventContents event(int index, int payloadChars)
+    {
+        EventContents event = new EventContents();
+        event.EventNamespace = "custom.test";
+        event.Name = "event" + index;
+        StringBuilder payload = new StringBuilder();
+        for (int i = 0; i < payloadChars; i++)
+            payload.append('x');
+        event.Payload = payload.toString();
+        return event;
+    }
+
+    private static boolean waitForSent(PlayFabEventSpool spool, long count, long timeoutMilliseconds) throws InterruptedException
+    {
+        long deadline = System.currentTimeMillis() + timeoutMilliseconds;
+        while (spool.getStats().sent < count) {
+            if (System.currentTimeMillis() > deadline)
+                return false;
+            Thread.sleep(10);
+        }
+        return true;
+    }
+
+    private static String readAll(InputStream in) throws IOException
+    {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        byte[] buffer = new byte[4096];
+        int read;
+        while ((read = in.read(buffer)) != -1)
+            out.write(buffer, 0, read);
+        return new String(out.toByteArray(), "UTF-8");
+    }
+}
@@ -0,0 +1,85 @@
+package com.playfab.test;
+
+import static org.junit.Assert.*;
+import org.junit.*;
+
+import java.lang.reflect.Method;
+import java.util.concurrent.*;
+
+import com.playfab.PlayFabFuture;
+import com.playfab.PlayFabSettings;
+import com.playfab.internal.PlayFabExecutors;
+
+/**
+ * Which threads async() calls run on: a configured AsyncExecutor, virtual threads on Java 21+, or the SDK's daemon pool,
+ * which is also where UseVirtualThreads falls back to on older runtimes
+ */
+public class PlayFabExecutorsTest
+{
+    private static final Callable<Thread> CURRENT_THREAD = new Callable<Thread>() {
+        public Thread call() {
+            return Thread.currentThread();
+        }
+    };
+
+    @After
+    public void resetSettings()
+    {
+        PlayFabSettings.UseVirtualThreads = false;
+        PlayFabSettings.AsyncExecutor = null;
+    }
+
+    @Test
+    public void CallsRunOnTheDaemonPoolByDefault() throws Exception
+    {
+        Thread thread = PlayFabFuture.start(CURRENT_THREAD).get(5, TimeUnit.SECONDS);
+        assertTrue(thread.getName().startsWith("PlayFab-async-"));
+        assertTrue(thread.isDaemon());
+    }
+
+    @Test
+    public void VirtualThreadsFallBackToTheDaemonPoolBeforeJava21() throws Exception
+    {
+        Assume.assumeFalse(isVirtualThreadRuntime());
+        assertFalse(PlayFabExecutors.isVirtualThreadSupported());
+
+        PlayFabSettings.UseVirtualThreads = true;
+        Thread thread = PlayFabFuture.start(CURRENT_THREAD).get(5, TimeUnit.SECONDS);
+        assertTrue(thread.getName().startsWith("PlayFab-async-"));
+        assertTrue(thread.isDaemon());
+        assertSame(PlayFabExecutors.getAsyncExecutor(), PlayFabExecutors.getAsyncExecutor());
+    }
+
+    @Test
+    public void VirtualThreadsAreUsedFromJava21() throws Exception
+    {
+        Assume.assumeTrue(isVirtualThreadRuntime());
+        assertTrue(PlayFabExecutors.isVirtualThreadSupported());
+
+        PlayFabSettings.UseVirtualThreads = true;
+        Thread thread = PlayFabFuture.start(CURRENT_THREAD).get(5, TimeUnit.SECONDS);
+        assertEquals(Boolean.TRUE, Thread.class.getMethod("isVirtual").invoke(thread));
+    }
+
+    @Test
+    public void AConfiguredExecutorWinsOverVirtualThreads() throws Exception
+    {
+        ExecutorService executor = Executors.newSingleThreadExecutor(PlayFabExecutors.newDaemonThreadFactory("configured-"));
+        try {
+            PlayFabSettings.AsyncExecutor = executor;
+            PlayFabSettings.UseVirtualThreads = true;
+            assertTrue(PlayFabFuture.start(CURRENT_THREAD).get(5, TimeUnit.SECONDS).getName().startsWith("configured-"));
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    // Whether this runtime has virtual threads, judged independently of PlayFabExecutors
+    private static boolean isVirtualThreadRuntime()
+    {
+        for (Method method : Thread.class.getMethods())
+            if (method.getName().equals("ofVirtual"))
+                return true;
+        return false;
+    }
+}
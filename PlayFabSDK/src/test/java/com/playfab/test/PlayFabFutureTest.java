@@ -0,0 +1,233 @@
+package com.playfab.test;
+
+import static org.junit.Assert.*;
+import org.junit.*;
+
+import java.io.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.*;
+
+import com.playfab.PlayFabFuture;
+import com.playfab.internal.PlayFabAbortScope;
+
+/**
+ * Chaining, failure propagation and cancellation of PlayFabFuture. Calls stand in for API calls by registering a
+ * connection with PlayFabAbortScope, as the transports do, and blocking until it is closed
+ */
+public class PlayFabFutureTest
+{
+    @Test
+    public void CancellingClosesTheCallsConnection() throws Exception
+    {
+        Connection connection = new Connection();
+        PlayFabFuture<String> call = PlayFabFuture.start(connection.call());
+        assertTrue(connection.registered.await(5, TimeUnit.SECONDS));
+
+        assertTrue(call.cancel(true));
+        assertTrue(connection.closed.await(5, TimeUnit.SECONDS));
+        assertTrue(call.isCancelled());
+        // Cancelling again, or once complete, does nothing
+        assertFalse(call.cancel(true));
+    }
+
+    @Test
+    public void CancellingWinsOverTheCallEndingOnItsClosedConnection() throws Exception
+    {
+        // Closing the connection ends these calls at once, and that must not complete the future ahead of the cancel
+        for (int i = 0; i < 20; i++) {
+            Connection connection = new Connection();
+            PlayFabFuture<String> call = PlayFabFuture.start(connection.call());
+            assertTrue(connection.registered.await(5, TimeUnit.SECONDS));
+
+            assertTrue(call.cancel(true));
+            assertTrue(call.isCancelled());
+            assertTrue(connection.closed.await(5, TimeUnit.SECONDS));
+        }
+    }
+
+    @Test
+    public void CancellingWithoutInterruptLeavesTheConnectionOpen() throws Exception
+    {
+        Connection connection = new Connection();
+        PlayFabFuture<String> call = PlayFabFuture.start(connection.call());
+        assertTrue(connection.registered.await(5, TimeUnit.SECONDS));
+
+        assertTrue(call.cancel(false));
+        assertFalse(connection.closed.await(200, TimeUnit.MILLISECONDS));
+        connection.release.countDown();
+    }
+
+    @Test
+    public void ThenTransformsEachValueInTurn() throws Exception
+    {
+        PlayFabFuture<Integer> length = PlayFabFuture.start(new Callable<String>() {
+            public String call() {
+                return "playfab";
+            }
+        }).then(new PlayFabFuture.Transform<String, Integer>() {
+            public Integer apply(String value) {
+                return value.length();
+            }
+        });
+        PlayFabFuture<Integer> doubled = length.then(new PlayFabFuture.Transform<Integer, Integer>() {
+            public Integer apply(Integer value) {
+                return value * 2;
+            }
+        });
+        assertEquals(Integer.valueOf(7), length.get(5, TimeUnit.SECONDS));
+        assertEquals(Integer.valueOf(14), doubled.get(5, TimeUnit.SECONDS));
+
+        // Chaining onto a future that has already completed still runs the transform
+        assertEquals("14!", doubled.then(new PlayFabFuture.Transform<Integer, String>() {
+            public String apply(Integer value) {
+                return value + "!";
+            }
+        }).get(5, TimeUnit.SECONDS));
+    }
+
+    @Test
+    public void ThenComposeWaitsForTheNextCall() throws Exception
+    {
+        PlayFabFuture<String> composed = PlayFabFuture.completed("first").thenCompose(new PlayFabFuture.AsyncTransform<String, String>() {
+            public PlayFabFuture<String> apply(final String value) {
+                return PlayFabFuture.start(new Callable<String>() {
+                    public String call() throws Exception {
+                        Thread.sleep(100);
+                        return value + ", second";
+                    }
+                });
+            }
+        });
+        assertFalse(composed.isDone());
+        assertEquals("first, second", composed.get(5, TimeUnit.SECONDS));
+    }
+
+    @Test
+    public void CancellingAChainClosesTheConnectionOfTheCallInFlight() throws Exception
+    {
+        final Connection connection = new Connection();
+        PlayFabFuture<String> composed = PlayFabFuture.completed("first").thenCompose(new PlayFabFuture.AsyncTransform<String, String>() {
+            public PlayFabFuture<String> apply(String value) {
+                return PlayFabFuture.start(connection.call());
+            }
+        });
+        assertTrue(connection.registered.await(5, TimeUnit.SECONDS));
+
+        assertTrue(composed.cancel(true));
+        assertTrue(connection.closed.await(5, TimeUnit.SECONDS));
+    }
+
+    @Test
+    public void CancellingTheSourceCancelsWhatIsChainedToIt() throws Exception
+    {
+        Connection connection = new Connection();
+        PlayFabFuture<String> call = PlayFabFuture.start(connection.call());
+        PlayFabFuture<String> next = call.then(new PlayFabFuture.Transform<String, String>() {
+            public String apply(String value) {
+                fail("Transforms do not run for cancelled futures");
+                return value;
+            }
+        });
+        assertTrue(connection.registered.await(5, TimeUnit.SECONDS));
+
+        call.cancel(true);
+        try {
+            next.get(5, TimeUnit.SECONDS);
+            fail();
+        } catch (CancellationException e) {
+            // Expected
+        }
+        assertTrue(next.isCancelled());
+    }
+
+    @Test
+    public void FailuresSkipTheTransformsAndReachEveryCallback() throws Exception
+    {
+        final AtomicInteger transforms = new AtomicInteger();
+        final AtomicReference<Throwable> seen = new AtomicReference<Throwable>();
+        PlayFabFuture<String> chained = PlayFabFuture.start(new Callable<String>() {
+            public String call() throws Exception {
+                throw new IOException("unreachable");
+            }
+        }).then(new PlayFabFuture.Transform<String, String>() {
+            public String apply(String value) {
+                transforms.incrementAndGet();
+                return value;
+            }
+        }).thenCompose(new PlayFabFuture.AsyncTransform<String, String>() {
+            public PlayFabFuture<String> apply(String value) {
+                transforms.incrementAndGet();
+                return PlayFabFuture.completed(value);
+            }
+        });
+        try {
+            chained.get(5, TimeUnit.SECONDS);
+            fail();
+        } catch (ExecutionException e) {
+            assertTrue(e.getCause() instanceof IOException);
+            assertEquals("unreachable", e.getCause().getMessage());
+        }
+
+        final CountDownLatch called = new CountDownLatch(1);
+        chained.addCallback(new PlayFabFuture.Callback<String>() {
+            public void onComplete(String result, Throwable error) {
+                assertNull(result);
+                seen.set(error);
+                called.countDown();
+            }
+        });
+        assertTrue(called.await(5, TimeUnit.SECONDS));
+        assertTrue(seen.get() instanceof IOException);
+        assertEquals(0, transforms.get());
+    }
+
+    @Test
+    public void ATransformThatThrowsFailsItsFuture() throws Exception
+    {
+        PlayFabFuture<String> failing = PlayFabFuture.completed("value").then(new PlayFabFuture.Transform<String, String>() {
+            public String apply(String value) {
+                throw new IllegalArgumentException(value);
+            }
+        });
+        try {
+            failing.get(5, TimeUnit.SECONDS);
+            fail();
+        } catch (ExecutionException e) {
+            assertTrue(e.getCause() instanceof IllegalArgumentException);
+        }
+    }
+
+    // Helpers
+
+    // A call that registers a connection and holds it until it is closed or released
+    private static class Connection implements Closeable
+    {
+        private final CountDownLatch registered = new CountDownLatch(1);
+        private final CountDownLatch closed = new CountDownLatch(1);
+        private final CountDownLatch release = new CountDownLatch(1);
+
+        public void close()
+        {
+            closed.countDown();
+        }
+
+        private Callable<String> call()
+        {
+            return new Callable<String>() {
+                public String call() throws Exception {
+                    PlayFabAbortScope.register(Connection.this);
+                    registered.countDown();
+                    try {
+                        while (closed.getCount() > 0 && release.getCount() > 0)
+                            Thread.sleep(10);
+                    } catch (InterruptedException e) {
+                        // Interrupted by cancel(true) as well
+                    } finally {
+                        PlayFabAbortScope.unregister();
+                    }
+                    return "done";
+                }
+            };
+        }
+    }
+}
@@ -0,0 +1,213 @@
+package com.playfab.test;
+
+import static org.junit.Assert.*;
+import org.junit.*;
+
+import java.io.*;
+import java.net.*;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.*;
+
+import com.sun.net.httpserver.*;
+
+import com.playfab.PlayFabFuture;
+import com.playfab.internal.PlayFabTransport;
+
+/**
+ * The Java 11 HTTP/2 transport, against a local stub server. Tests run from a class directory, where the multi-release
+ * jar's META-INF/versions/11 classes are not picked up, so the transport is loaded from there explicitly. The stub
+ * answers with the number of request bytes it read, and "/Slow" requests only after a few seconds
+ */
+public class PlayFabHttp2TransportTest
+{
+    private static final File JAVA11_CLASSES = new File("target/classes/META-INF/versions/11");
+    private static final String TRANSPORT = "com.playfab.internal.PlayFabHttp2Transport";
+
+    private static HttpServer server;
+    private static String url;
+    private static final CountDownLatch bodyArriving = new CountDownLatch(1);
+    private static final AtomicReference<String> contentLength = new AtomicReference<String>();
+
+    @BeforeClass
+    public static void startServer() throws IOException
+    {
+        server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 0);
+        server.setExecutor(Executors.newCachedThreadPool());
+        server.createContext("/", new HttpHandler() {
+            public void handle(HttpExchange exchange) throws IOException {
+                contentLength.set(exchange.getRequestHeaders().getFirst("Content-Length"));
+                long read = 0;
+                InputStream input = exchange.getRequestBody();
+                byte[] buffer = new byte[8192];
+                for (int count = input.read(buffer); count != -1; count = input.read(buffer)) {
+                    read += count;
+                    bodyArriving.countDown();
+                }
+                if (exchange.getRequestURI().getPath().equals("/Slow")) {
+                    try {
+                        Thread.sleep(5000);
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    }
+                }
+                byte[] bytes = String.valueOf(read).getBytes("UTF-8");
+                exchange.sendResponseHeaders(200, bytes.length);
+                exchange.getResponseBody().write(bytes);
+                exchange.close();
+            }
+        });
+        server.start();
+        url = "http://127.0.0.1:" + server.getAddress().getPort();
+    }
+
+    @AfterClass
+    public static void stopServer()
+    {
+        server.stop(0);
+    }
+
+    @Test
+    public void BodiesAreStreamedWhileTheyAreWritten() throws Exception
+    {
+        PlayFabTransport transport = java11Transport();
+        final int chunk = 256 * 1024;
+        PlayFabTransport.Response response = transport.post(url + "/Stream", new HashMap<String, String>(), new Body(-1, chunk) {
+            @Override
+            protected void between() throws IOException {
+                // A transport buffering the whole body would only send it once this returns
+                try {
+                    if (!bodyArriving.await(10, TimeUnit.SECONDS))
+                        throw new IOException("Nothing was sent before the body was complete");
+                } catch (InterruptedException e) {
+                    throw new InterruptedIOException();
+                }
+            }
+        });
+        try {
+            assertEquals(200, response.httpCode);
+            assertEquals(String.valueOf(2 * chunk), read(response.body));
+        } finally {
+            response.close();
+        }
+    }
+
+    @Test
+    public void KnownLengthsAreSent() throws Exception
+    {
+        PlayFabTransport.Response response = java11Transport().post(url + "/Sized", new HashMap<String, String>(), new Body(2000, 1000));
+        try {
+            assertEquals("2000", read(response.body));
+            assertEquals("2000", contentLength.get());
+        } finally {
+            response.close();
+        }
+    }
+
+    @Test
+    public void CancellingTheCallAbortsTheExchange() throws Exception
+    {
+        final PlayFabTransport transport = java11Transport();
+        final CountDownLatch ended = new CountDownLatch(1);
+        final AtomicReference<Throwable> failure = new AtomicReference<Throwable>();
+        PlayFabFuture<Integer> call = PlayFabFuture.start(new Callable<Integer>() {
+            public Integer call() throws Exception {
+                try {
+                    PlayFabTransport.Response response = transport.post(url + "/Slow", new HashMap<String, String>(), new Body(20, 10));
+                    response.close();
+                    return response.httpCode;
+                } catch (Exception e) {
+                    failure.set(e);
+                    throw e;
+                } finally {
+                    ended.countDown();
+                }
+            }
+        });
+        Thread.sleep(500);
+
+        assertNull(String.valueOf(failure.get()), failure.get());
+        assertTrue(call.cancel(true));
+        // The post gives up at once instead of waiting out the slow response
+        assertTrue(ended.await(2, TimeUnit.SECONDS));
+        assertTrue(failure.get() instanceof InterruptedIOException);
+    }
+
+    // Helpers
+    private static class Body implements PlayFabTransport.RequestBody
+    {
+        private final long contentLength;
+        private final int chunk;
+
+        private Body(long contentLength, int chunk)
+        {
+            this.contentLength = contentLength;
+            this.chunk = chunk;
+        }
+
+        public long getContentLength()
+        {
+            return contentLength;
+        }
+
+        public String getContentEncoding()
+        {
+            return null;
+        }
+
+        public void writeTo(OutputStream out) throws IOException
+        {
+            byte[] bytes = new byte[chunk];
+            Arrays.fill(bytes, (byte) 'x');
+            out.write(bytes);
+            out.flush();
+            between();
+            out.write(bytes);
+            out.flush();
+        }
+
+        protected void between() throws IOException
+        {
+        }
+    }
+
+    private static String read(InputStream in) throws IOException
+    {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        for (int read = in.read(); read != -1; read = in.read())
+            out.write(read);
+        return out.toString("UTF-8");
+    }
+
+    // Loads the Java 11 build of the transport, sharing every other class with the tests
+    private static PlayFabTransport java11Transport() throws Exception
+    {
+        Assume.assumeTrue(new File(JAVA11_CLASSES, TRANSPORT.replace('.', '/') + ".class").isFile());
+        ClassLoader loader = new ClassLoader(PlayFabHttp2TransportTest.class.getClassLoader()) {
+            @Override
+            protected Class<?> loadClass(String name, boolean resolve) throws ClassNotFoundException {
+                if (!name.startsWith(TRANSPORT))
+                    return super.loadClass(name, resolve);
+                synchronized (getClassLoadingLock(name)) {
+                    Class<?> loaded = findLoadedClass(name);
+                    if (loaded != null)
+                        return loaded;
+                    try {
+                        InputStream in = new FileInputStream(new File(JAVA11_CLASSES, name.replace('.', '/') + ".class"));
+                        try {
+                            ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+                            for (int read = in.read(); read != -1; read = in.read())
+                                bytes.write(read);
+                            return defineClass(name, bytes.toByteArray(), 0, bytes.size());
+                        } finally {
+                            in.close();
+                        }
+                    } catch (IOException e) {
+                        throw new ClassNotFoundException(name, e);
+                    }
+                }
+            }
+        };
+        return (PlayFabTransport) loader.loadClass(TRANSPORT).getDeclaredConstructor().newInstance();
+    }
+}
@@ -0,0 +1,205 @@
+package com.playfab.test;
+
+import java.io.*;
+import java.lang.reflect.*;
+import java.util.*;
+
+/**
+ * Writes the PlayFabXxxModelsAdapters sources from the compiled PlayFabXxxModels classes. PlayFabModelAdaptersTest fails
+ * while the committed adapters differ from what this produces; after changing a models class, regenerate them with
+ *
+ *     mvn -B test -Dtest=PlayFabModelAdaptersTest -Dplayfab.regenerateAdapters=true
+ *
+ * and copy the changed files to the other SDKs, which carry the same models. main(directory) writes them into any
+ * source directory, src/main/java/com/playfab by default.
+ */
+public class PlayFabModelAdaptersGenerator
+{
+    public static final String[] FAMILIES = { "Admin", "Authentication", "Client", "CloudScript", "Data", "Economy", "Events",
+        "Experimentation", "Groups", "Insights", "Localization", "Matchmaker", "Multiplayer", "Profiles", "Server" };
+
+    public static final String SOURCE_DIRECTORY = "src/main/java/com/playfab";
+
+    // Written and read as JSON primitives, without an adapter
+    private static final Map<Class<?>, String> PRIMITIVES = new HashMap<Class<?>, String>();
+    static {
+        PRIMITIVES.put(String.class, "readString");
+        PRIMITIVES.put(Integer.class, "readInteger");
+        PRIMITIVES.put(Boolean.class, "readBoolean");
+        PRIMITIVES.put(Long.class, "readLong");
+    }
+
+    public static void main(String[] args) throws Exception
+    {
+        File directory = new File(args.length > 0 ? args[0] : SOURCE_DIRECTORY);
+        for (String family : FAMILIES) {
+            Class<?> models;
+            try {
+                models = Class.forName("com.playfab.PlayFab" + family + "Models");
+            } catch (ClassNotFoundException e) {
+                continue; // Not part of this SDK
+            }
+            Writer out = new OutputStreamWriter(new FileOutputStream(new File(directory, fileName(models))), "UTF-8");
+            try {
+                out.write(generate(models));
+            } finally {
+                out.close();
+            }
+        }
+    }
+
+    public static String fileName(Class<?> models)
+    {
+        return models.getSimpleName() + "Adapters.java";
+    }
+
+    /**
+     * @return the source of the adapters companion of a PlayFabXxxModels class
+     */
+    public static String generate(Class<?> models)
+    {
+        List<Class<?>> classes = new ArrayList<Class<?>>();
+        for (Class<?> model : models.getClasses())
+            if (!model.isEnum())
+                classes.add(model);
+        Collections.sort(classes, new Comparator<Class<?>>() {
+            public int compare(Class<?> a, Class<?> b) {
+                return String.CASE_INSENSITIVE_ORDER.compare(a.getSimpleName(), b.getSimpleName());
+            }
+        });
+
+        StringBuilder adapters = new StringBuilder();
+        boolean usesDate = false;
+        for (Class<?> model : classes)
+            usesDate |= adapter(adapters, model);
+
+        String name = models.getSimpleName();
+        StringBuilder out = new StringBuilder();
+        out.append("package com.playfab;\n\n");
+        out.append("import java.io.IOException;\n");
+        if (usesDate)
+            out.append("import java.util.Date;\n");
+        out.append("import com.google.gson.*;\n");
+        out.append("import com.google.gson.reflect.TypeToken;\n");
+        out.append("import com.google.gson.stream.JsonReader;\n");
+        out.append("import com.google.gson.stream.JsonToken;\n");
+        out.append("import com.google.gson.stream.JsonWriter;\n");
+        out.append("import com.playfab.").append(name).append(".*;\n");
+        out.append("import com.playfab.internal.PlayFabJson;\n\n");
+        out.append("/**\n");
+        out.append(" * Streaming TypeAdapters for every class in ").append(name).append(", so models are read and written without field reflection.\n");
+        out.append(" * PlayFabJson finds FACTORY through this class name. Enums keep Gson's own adapters, which do no per-call reflection.\n");
+        out.append(" * Generated from ").append(name).append(" by PlayFabModelAdaptersGenerator, in the PlayFabSDK tests: regenerate rather than edit.\n");
+        out.append(" */\n");
+        out.append("public class ").append(name).append("Adapters {\n");
+        out.append("    public static final TypeAdapterFactory FACTORY = new TypeAdapterFactory() {\n");
+        out.append("        @SuppressWarnings(\"unchecked\")\n");
+        out.append("        public <T> TypeAdapter<T> create(Gson gson, TypeToken<T> type) {\n");
+        out.append("            Class<?> raw = type.getRawType();\n");
+        out.append("            if (raw.getDeclaringClass() != ").append(name).append(".class)\n");
+        out.append("                return null;\n");
+        out.append("            switch (raw.getSimpleName()) {\n");
+        for (Class<?> model : classes) {
+            String simple = model.getSimpleName();
+            out.append("                case \"").append(simple).append("\": return (TypeAdapter<T>) new ").append(simple).append("Adapter(gson);\n");
+        }
+        out.append("                default: return null;\n");
+        out.append("            }\n");
+        out.append("        }\n");
+        out.append("    };\n");
+        out.append(adapters);
+        out.append("}\n");
+        return out.toString();
+    }
+
+    // Appends the adapter of one model, and returns whether it reads or writes a Date
+    private static boolean adapter(StringBuilder out, Class<?> model)
+    {
+        String simple = model.getSimpleName();
+        Map<Class<?>, String> delegates = new LinkedHashMap<Class<?>, String>();
+        StringBuilder writes = new StringBuilder();
+        StringBuilder reads = new StringBuilder();
+        for (Field field : model.getFields()) {
+            if (Modifier.isStatic(field.getModifiers()))
+                continue;
+            String name = field.getName();
+            Type type = field.getGenericType();
+            String target = "out.name(\"" + name + "\")";
+            String read;
+            if (type instanceof ParameterizedType) {
+                ParameterizedType generic = (ParameterizedType) type;
+                Type[] args = generic.getActualTypeArguments();
+                boolean list = generic.getRawType() == ArrayList.class;
+                String element = delegate(delegates, (Class<?>) args[list ? 0 : 1]);
+                String kind = list ? "List" : "Map";
+                writes.append("            PlayFabJson.write").append(kind).append("(").append(target).append(", value.").append(name)
+                    .append(", ").append(element).append(");\n");
+                read = "PlayFabJson.read" + kind + "(in, " + element + ")";
+            } else if (PRIMITIVES.containsKey(type)) {
+                writes.append("            ").append(target).append(".value(value.").append(name).append(");\n");
+                read = "PlayFabJson." + PRIMITIVES.get(type) + "(in)";
+            } else {
+                String delegate = delegate(delegates, (Class<?>) type);
+                writes.append("            ").append(delegate).append(".write(").append(target).append(", value.").append(name).append(");\n");
+                read = delegate + ".read(in)";
+            }
+            reads.append("                        case \"").append(name).append("\": value.").append(name).append(" = ").append(read).append("; break;\n");
+        }
+
+        out.append("\n");
+        out.append("    private static class ").append(simple).append("Adapter extends TypeAdapter<").append(simple).append("> {\n");
+        for (Map.Entry<Class<?>, String> delegate : delegates.entrySet())
+            out.append("        private final TypeAdapter<").append(delegate.getKey().getSimpleName()).append("> ").append(delegate.getValue()).append(";\n");
+        if (!delegates.isEmpty())
+            out.append("\n");
+        out.append("        private ").append(simple).append("Adapter(Gson gson) {\n");
+        for (Map.Entry<Class<?>, String> delegate : delegates.entrySet())
+            out.append("            ").append(delegate.getValue()).append(" = gson.getAdapter(").append(delegate.getKey().getSimpleName()).append(".class);\n");
+        out.append("        }\n\n");
+        out.append("        @Override\n");
+        out.append("        public void write(JsonWriter out, ").append(simple).append(" value) throws IOException {\n");
+        out.append("            if (value == null) {\n");
+        out.append("                out.nullValue();\n");
+        out.append("                return;\n");
+        out.append("            }\n");
+        out.append("            out.beginObject();\n");
+        out.append(writes);
+        out.append("            out.endObject();\n");
+        out.append("        }\n\n");
+        out.append("        @Override\n");
+        out.append("        public ").append(simple).append(" read(JsonReader in) throws IOException {\n");
+        out.append("            if (in.peek() == JsonToken.NULL) {\n");
+        out.append("                in.nextNull();\n");
+        out.append("                return null;\n");
+        out.append("            }\n");
+        out.append("            ").append(simple).append(" value = new ").append(simple).append("();\n");
+        out.append("            try {\n");
+        out.append("                in.beginObject();\n");
+        out.append("                while (in.hasNext()) {\n");
+        out.append("                    switch (in.nextName()) {\n");
+        out.append(reads);
+        out.append("                        default: in.skipValue(); break;\n");
+        out.append("                    }\n");
+        out.append("                }\n");
+        out.append("                in.endObject();\n");
+        out.append("            } catch (IllegalStateException e) {\n");
+        out.append("                throw new JsonSyntaxException(e);\n");
+        out.append("            }\n");
+        out.append("            return value;\n");
+        out.append("        }\n");
+        out.append("    }\n");
+        return delegates.containsKey(Date.class);
+    }
+
+    // The name of the field holding the Gson adapter of a type, added on first use
+    private static String delegate(Map<Class<?>, String> delegates, Class<?> type)
+    {
+        String name = delegates.get(type);
+        if (name == null) {
+            String simple = type.getSimpleName();
+            name = Character.toLowerCase(simple.charAt(0)) + simple.substring(1) + "Adapter";
+            delegates.put(type, name);
+        }
+        return name;
+    }
+}
@@ -0,0 +1,193 @@
+package com.playfab.test;
+
+import static org.junit.Assert.*;
+import org.junit.*;
+
+import java.io.*;
+import java.lang.reflect.*;
+import java.util.*;
+
+import com.google.gson.*;
+
+import com.playfab.PlayFabSettings;
+import com.playfab.PlayFabServerModels;
+import com.playfab.internal.PlayFabJson;
+
+/**
+ * The generated model adapters must produce and accept exactly what Gson's reflective adapters do, and be what
+ * PlayFabModelAdaptersGenerator makes of the models today
+ */
+public class PlayFabModelAdaptersTest
+{
+    @After
+    public void resetSettings()
+    {
+        PlayFabSettings.UseReflectiveSerialization = false;
+    }
+
+    @Test
+    public void GeneratedAdaptersMatchReflection() throws Exception
+    {
+        int checked = 0;
+        for (String family : PlayFabModelAdaptersGenerator.FAMILIES) {
+            Class<?> models;
+            try {
+                models = Class.forName("com.playfab.PlayFab" + family + "Models");
+            } catch (ClassNotFoundException e) {
+                continue; // Not part of this SDK
+            }
+            Class.forName("com.playfab.PlayFab" + family + "ModelsAdapters");
+
+            for (Class<?> model : models.getClasses()) {
+                if (model.isEnum())
+                    continue;
+                Object value = populate(model, 0);
+                String reflective = toJson(value, true);
+                String generated = toJson(value, false);
+                assertEquals(model.getName(), reflective, generated);
+
+                // Reading back through the generated adapter must lose nothing
+                Object parsed = PlayFabJson.getAdapter(model).fromJson(generated);
+                assertEquals(model.getName(), reflective, toJson(parsed, true));
+                checked++;
+            }
+        }
+        assertTrue(checked > 0);
+    }
+
+    @Test
+    public void CommittedAdaptersMatchTheGenerator() throws Exception
+    {
+        // -Dplayfab.regenerateAdapters=true rewrites them instead
+        boolean regenerate = Boolean.getBoolean("playfab.regenerateAdapters");
+        int checked = 0;
+        for (String family : PlayFabModelAdaptersGenerator.FAMILIES) {
+            Class<?> models;
+            try {
+                models = Class.forName("com.playfab.PlayFab" + family + "Models");
+            } catch (ClassNotFoundException e) {
+                continue; // Not part of this SDK
+            }
+            File file = new File(PlayFabModelAdaptersGenerator.SOURCE_DIRECTORY, PlayFabModelAdaptersGenerator.fileName(models));
+            String generated = PlayFabModelAdaptersGenerator.generate(models);
+            if (regenerate) {
+                Writer out = new OutputStreamWriter(new FileOutputStream(file), "UTF-8");
+                try {
+                    out.write(generated);
+                } finally {
+                    out.close();
+                }
+            }
+            assertEquals(file + " is stale: regenerate it as PlayFabModelAdaptersGenerator describes", generated, read(file));
+            checked++;
+        }
+        assertTrue(checked > 0);
+    }
+
+    @Test
+    public void GeneratedAdapterIsUsedUnlessDisabled()
+    {
+        assertFalse(isReflective(PlayFabJson.getAdapter(PlayFabServerModels.GetUserDataResult.class)));
+        PlayFabSettings.UseReflectiveSerialization = true;
+        assertTrue(isReflective(PlayFabJson.getAdapter(PlayFabServerModels.GetUserDataResult.class)));
+    }
+
+    @Test
+    public void UnknownMembersAndNullsAreSkipped() throws IOException
+    {
+        String json = "{\"PlayFabId\":\"1337D00D\",\"Unknown\":{\"Nested\":[1,2,{\"a\":null}]},\"DataVersion\":null,\"Data\":{\"k\":{\"Value\":\"v\",\"Permission\":\"Public\"}}}";
+        PlayFabServerModels.GetUserDataResult result = PlayFabJson.getAdapter(PlayFabServerModels.GetUserDataResult.class).fromJson(json);
+        assertEquals("1337D00D", result.PlayFabId);
+        assertNull(result.DataVersion);
+        assertEquals("v", result.Data.get("k").Value);
+        assertEquals(PlayFabServerModels.UserDataPermission.Public, result.Data.get("k").Permission);
+    }
+
+    @Test(expected = JsonSyntaxException.class)
+    public void WrongTokenIsASyntaxError() throws IOException
+    {
+        PlayFabJson.getAdapter(PlayFabServerModels.GetUserDataResult.class).fromJson("{\"Data\":[1]}");
+    }
+
+    // Helpers
+    private static String read(File file) throws IOException
+    {
+        Reader in = new InputStreamReader(new FileInputStream(file), "UTF-8");
+        try {
+            StringBuilder text = new StringBuilder();
+            char[] buffer = new char[8192];
+            for (int read = in.read(buffer); read != -1; read = in.read(buffer))
+                text.append(buffer, 0, read);
+            return text.toString();
+        } finally {
+            in.close();
+        }
+    }
+
+    private static boolean isReflective(Object adapter)
+    {
+        return adapter.getClass().getName().startsWith("com.google.gson");
+    }
+
+    private static String toJson(Object value, boolean reflective)
+    {
+        PlayFabSettings.UseReflectiveSerialization = reflective;
+        try {
+            return PlayFabJson.getGson().toJson(value);
+        } finally {
+            PlayFabSettings.UseReflectiveSerialization = false;
+        }
+    }
+
+    // Fills every field with a value of its type, recursing a couple of levels into nested models
+    private static Object populate(Class<?> model, int depth) throws Exception
+    {
+        Object value = model.getDeclaredConstructor().newInstance();
+        int seed = 1;
+        for (Field field : model.getFields()) {
+            if (Modifier.isStatic(field.getModifiers()))
+                continue;
+            field.set(value, sample(field.getGenericType(), depth, seed++));
+        }
+        return value;
+    }
+
+    private static Object sample(Type type, int depth, int seed) throws Exception
+    {
+        if (type instanceof ParameterizedType) {
+            ParameterizedType generic = (ParameterizedType) type;
+            Type[] args = generic.getActualTypeArguments();
+            if (generic.getRawType() == ArrayList.class) {
+                ArrayList<Object> list = new ArrayList<Object>();
+                list.add(sample(args[0], depth + 1, seed));
+                list.add(sample(args[0], depth + 1, seed + 1));
+                return list;
+            }
+            Map<String, Object> map = new LinkedHashMap<String, Object>();
+            map.put("first", sample(args[1], depth + 1, seed));
+            map.put("second", sample(args[1], depth + 1, seed + 1));
+            return map;
+        }
+
+        Class<?> cls = (Class<?>) type;
+        if (cls == String.class)
+            return "text é\"" + seed;
+        if (cls == Boolean.class)
+            return seed % 2 == 0;
+        if (cls == Integer.class)
+            return -seed;
+        if (cls == Long.class)
+            return 10000000000L + seed;
+        if (cls == Double.class)
+            return seed + 0.25;
+        if (cls == Float.class)
+            return seed + 0.5f;
+        if (cls == Date.class)
+            return new Date(1634000000000L + seed * 1001L);
+        if (cls == Object.class)
+            return "object" + seed;
+        if (cls.isEnum())
+            return cls.getEnumConstants()[seed % cls.getEnumConstants().length];
+        return depth > 2 ? null : populate(cls, depth + 1);
+    }
+}
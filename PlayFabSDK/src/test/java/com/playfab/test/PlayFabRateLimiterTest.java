@@ -0,0 +1,210 @@
+package com.playfab.test;
+
+import static org.junit.Assert.*;
+import org.junit.*;
+
+import java.io.*;
+import java.net.*;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.*;
+
+import com.sun.net.httpserver.*;
+
+import com.playfab.PlayFabErrors.*;
+import com.playfab.PlayFabProfilesModels;
+import com.playfab.PlayFabSettings;
+import com.playfab.PlayFabServerModels;
+import com.playfab.PlayFabServerAPI;
+import com.playfab.internal.PlayFabRateLimiter;
+
+/**
+ * Token buckets per endpoint, family and entity, and calls paced or rejected before they reach a local stub server
+ */
+public class PlayFabRateLimiterTest
+{
+    @Test
+    public void BurstIsAllowedThenCallsAreRejected() throws Exception
+    {
+        PlayFabRateLimiter limiter = new PlayFabRateLimiter(0);
+        limiter.addLimit("/Server/UpdateUserData", 1, 5);
+        for (int i = 0; i < 5; i++)
+            assertEquals(0, limiter.acquire("/Server/UpdateUserData", null));
+
+        long retryAfter = limiter.acquire("/Server/UpdateUserData", null);
+        assertTrue(retryAfter > 900 && retryAfter <= 1000);
+        assertEquals(0, limiter.acquire("/Server/GetUserData", null));
+
+        PlayFabRateLimiter.Stats stats = limiter.getStats().get(0);
+        assertEquals(5, stats.permitted);
+        assertEquals(1, stats.rejected);
+        assertEquals(0, stats.available, 0.01);
+    }
+
+    @Test
+    public void QueuedCallsArePacedAtTheRate() throws Exception
+    {
+        PlayFabRateLimiter limiter = new PlayFabRateLimiter(1000);
+        limiter.addLimit("/Server", 20, 1);
+        long start = System.nanoTime();
+        for (int i = 0; i < 5; i++)
+            assertEquals(0, limiter.acquire("/Server/GetUserData", null));
+
+        // The first call takes the one token, and each of the rest waits 50ms for the next
+        assertTrue(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start) >= 190);
+        PlayFabRateLimiter.Stats stats = limiter.getStats().get(0);
+        assertEquals(5, stats.permitted);
+        assertEquals(4, stats.delayed);
+        assertEquals(0, stats.rejected);
+    }
+
+    @Test
+    public void EntitiesHaveTheirOwnAllowance() throws Exception
+    {
+        PlayFabRateLimiter limiter = new PlayFabRateLimiter(0);
+        limiter.addEntityLimit("/Server/UpdateUserData", 1, 2);
+        for (int i = 0; i < 2; i++) {
+            assertEquals(0, limiter.acquire("/Server/UpdateUserData", updateUserData("1337D00D")));
+            assertEquals(0, limiter.acquire("/Server/UpdateUserData", updateUserData("C0FFEE")));
+        }
+        assertTrue(limiter.acquire("/Server/UpdateUserData", updateUserData("1337D00D")) > 0);
+        assertTrue(limiter.acquire("/Server/UpdateUserData", updateUserData("C0FFEE")) > 0);
+
+        // A request naming no entity is not counted by a per-entity limit
+        assertEquals(0, limiter.acquire("/Server/UpdateUserData", new PlayFabServerModels.UpdateUserDataRequest()));
+        assertEquals(2, limiter.getStats().get(0).trackedEntities);
+    }
+
+    @Test
+    public void RefilledEntitiesAreForgottenOnceTenThousandAreTracked() throws Exception
+    {
+        PlayFabRateLimiter limiter = new PlayFabRateLimiter(0);
+        limiter.addEntityLimit("/Server/UpdateUserData", 20, 1);
+        for (int i = 0; i < 10000; i++)
+            assertEquals(0, limiter.acquire("/Server/UpdateUserData", updateUserData("A" + i)));
+        assertEquals(10000, limiter.getStats().get(0).trackedEntities);
+
+        // Every bucket has refilled by now, so the sweep the next entity starts leaves only that one
+        Thread.sleep(100);
+        assertEquals(0, limiter.acquire("/Server/UpdateUserData", updateUserData("B0")));
+        assertEquals(1, limiter.getStats().get(0).trackedEntities);
+        assertTrue(limiter.acquire("/Server/UpdateUserData", updateUserData("B0")) > 0);
+    }
+
+    @Test
+    public void EntitiesAreNamedByTypeAndId() throws Exception
+    {
+        PlayFabRateLimiter limiter = new PlayFabRateLimiter(0);
+        limiter.addEntityLimit("/Profile", 1, 1);
+        assertEquals(0, limiter.acquire("/Profile/GetProfile", getProfile("master_player_account", "1337D00D")));
+        assertTrue(limiter.acquire("/Profile/GetProfile", getProfile("master_player_account", "1337D00D")) > 0);
+        assertEquals(0, limiter.acquire("/Profile/GetProfile", getProfile("title_player_account", "1337D00D")));
+    }
+
+    @Test
+    public void ARejectedCallGivesBackTheTokensItTook() throws Exception
+    {
+        PlayFabRateLimiter limiter = new PlayFabRateLimiter(0);
+        limiter.addLimit("/Server/UpdateUserData", 1, 1);
+        limiter.addLimit("/Server", 1, 3);
+        assertEquals(0, limiter.acquire("/Server/UpdateUserData", null));
+        for (int i = 0; i < 5; i++)
+            assertTrue(limiter.acquire("/Server/UpdateUserData", null) > 0);
+
+        // Only the first call spent a family token, so two are left for other endpoints
+        assertEquals(0, limiter.acquire("/Server/GetUserData", null));
+        assertEquals(0, limiter.acquire("/Server/GetUserData", null));
+        assertTrue(limiter.acquire("/Server/GetUserData", null) > 0);
+    }
+
+    @Test
+    public void ConcurrentCallersNeverExceedTheBurst() throws Exception
+    {
+        final PlayFabRateLimiter limiter = new PlayFabRateLimiter(0);
+        limiter.addLimit("/Server", 0.001, 100);
+        final AtomicInteger permitted = new AtomicInteger();
+        List<Thread> threads = new ArrayList<Thread>();
+        for (int t = 0; t < 8; t++) {
+            Thread thread = new Thread(new Runnable() {
+                public void run() {
+                    try {
+                        for (int i = 0; i < 1000; i++)
+                            if (limiter.acquire("/Server/GetUserData", null) == 0)
+                                permitted.incrementAndGet();
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    }
+                }
+            });
+            thread.start();
+            threads.add(thread);
+        }
+        for (Thread thread : threads)
+            thread.join();
+
+        assertEquals(100, permitted.get());
+        assertEquals(7900, limiter.getStats().get(0).rejected);
+    }
+
+    @Test
+    public void RejectedCallsAreNotSent() throws Exception
+    {
+        final AtomicInteger requests = new AtomicInteger();
+        HttpServer server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 0);
+        server.setExecutor(Executors.newCachedThreadPool());
+        server.createContext("/", new HttpHandler() {
+            public void handle(HttpExchange exchange) throws IOException {
+                InputStream body = exchange.getRequestBody();
+                while (body.read() != -1) { }
+                requests.incrementAndGet();
+                byte[] bytes = "{\"code\":200,\"status\":\"OK\",\"data\":{}}".getBytes("UTF-8");
+                exchange.sendResponseHeaders(200, bytes.length);
+                exchange.getResponseBody().write(bytes);
+                exchange.close();
+            }
+        });
+        server.start();
+
+        String productionUrl = PlayFabSettings.ProductionEnvironmentUrl;
+        String developerSecretKey = PlayFabSettings.DeveloperSecretKey;
+        PlayFabSettings.ProductionEnvironmentUrl = "http://127.0.0.1:" + server.getAddress().getPort();
+        PlayFabSettings.DeveloperSecretKey = "rate-limiter-test";
+        PlayFabSettings.RateLimiter = new PlayFabRateLimiter(0);
+        PlayFabSettings.RateLimiter.addEntityLimit("/Server/UpdateUserData", 1, 2);
+        try {
+            List<PlayFabError> errors = new ArrayList<PlayFabError>();
+            for (int i = 0; i < 5; i++)
+                errors.add(PlayFabServerAPI.UpdateUserData(updateUserData("1337D00D")).Error);
+
+            assertNull(errors.get(0));
+            assertNull(errors.get(1));
+            for (int i = 2; i < 5; i++) {
+                assertEquals(PlayFabErrorCode.APIClientRequestRateLimitExceeded, errors.get(i).pfErrorCode);
+                assertEquals(Integer.valueOf(1), errors.get(i).retryAfterSeconds);
+            }
+            assertEquals(2, requests.get());
+        } finally {
+            PlayFabSettings.RateLimiter = null;
+            PlayFabSettings.ProductionEnvironmentUrl = productionUrl;
+            PlayFabSettings.DeveloperSecretKey = developerSecretKey;
+            server.stop(0);
+        }
+    }
+
+    // Helpers
+    private static PlayFabServerModels.UpdateUserDataRequest updateUserData(String playFabId)
+    {
+        PlayFabServerModels.UpdateUserDataRequest request = new PlayFabServerModels.UpdateUserDataRequest();
+        request.PlayFabId = playFabId;
+        return request;
+    }
+
+    private static PlayFabProfilesModels.GetEntityProfileRequest getProfile(String type, String id)
+    {
+        PlayFabProfilesModels.GetEntityProfileRequest request = new PlayFabProfilesModels.GetEntityProfileRequest();
+        request.Entity = new PlayFabProfilesModels.EntityKey();
+        request.Entity.Type = type;
+        request.Entity.Id = id;
+        return request;
+    }
+}
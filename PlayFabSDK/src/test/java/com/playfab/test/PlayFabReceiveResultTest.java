@@ -0,0 +1,98 @@
+package com.playfab.test;
+
+import static org.junit.Assert.*;
+import org.junit.*;
+
+import java.io.*;
+
+import com.playfab.PlayFabErrors.*;
+import com.playfab.PlayFabServerModels;
+import com.playfab.internal.PlayFabHTTP;
+
+/**
+ * The streaming response parser, on canned HTTP 200 bodies: every envelope it can meet must end in a result or a
+ * PlayFabError, never an exception
+ */
+public class PlayFabReceiveResultTest
+{
+    @Test
+    public void SuccessEnvelopeIsRead() throws IOException
+    {
+        PlayFabJsonSuccess<?> success = (PlayFabJsonSuccess<?>) receive("{\"code\":200,\"status\":\"OK\",\"data\":{\"Data\":{\"k\":\"v\"}}}");
+        assertEquals(200, success.code);
+        assertEquals("OK", success.status);
+        assertEquals("v", ((PlayFabServerModels.GetTitleDataResult) success.data).Data.get("k"));
+    }
+
+    @Test
+    public void ErrorEnvelopeOnAnOkResponseIsAnError() throws IOException
+    {
+        PlayFabError error = (PlayFabError) receive("{\"code\":400,\"status\":\"BadRequest\",\"error\":\"InvalidParams\",\"errorCode\":1000,"
+            + "\"errorMessage\":\"Invalid\",\"errorDetails\":{\"Keys\":[\"Too many\"]},\"retryAfterSeconds\":3}");
+        assertEquals(400, error.httpCode);
+        assertEquals(PlayFabErrorCode.InvalidParams, error.pfErrorCode);
+        assertEquals("Invalid", error.errorMessage);
+        assertEquals("Too many", error.errorDetails.get("Keys").get(0));
+        assertEquals(Integer.valueOf(3), error.retryAfterSeconds);
+    }
+
+    @Test
+    public void BodyTruncatedInsideDataIsAParseError() throws IOException
+    {
+        PlayFabError error = (PlayFabError) receive("{\"code\":200,\"status\":\"OK\",\"data\":{\"Data\":{\"k\":\"v\",");
+        assertEquals(200, error.httpCode);
+        assertEquals(PlayFabErrorCode.JsonParseError, error.pfErrorCode);
+        assertTrue(error.errorMessage.contains("truncated"));
+
+        // Cut inside a string, the reader reports an unterminated string instead
+        error = (PlayFabError) receive("{\"code\":200,\"status\":\"OK\",\"data\":{\"Data\":{\"k\":\"v");
+        assertEquals(200, error.httpCode);
+        assertEquals(PlayFabErrorCode.JsonParseError, error.pfErrorCode);
+    }
+
+    @Test
+    public void EmptyBodyIsAnEmptyResponse() throws IOException
+    {
+        PlayFabError error = (PlayFabError) receive("");
+        assertEquals(200, error.httpCode);
+        assertEquals(PlayFabErrorCode.ServiceUnavailable, error.pfErrorCode);
+        assertEquals("Empty server response", error.errorMessage);
+    }
+
+    @Test
+    public void DataMayComeBeforeCodeAndStatus() throws IOException
+    {
+        PlayFabJsonSuccess<?> success = (PlayFabJsonSuccess<?>) receive("{\"data\":{\"Data\":{\"k\":\"v\"}},\"status\":\"OK\",\"code\":200}");
+        assertEquals(200, success.code);
+        assertEquals("OK", success.status);
+        assertEquals("v", ((PlayFabServerModels.GetTitleDataResult) success.data).Data.get("k"));
+    }
+
+    @Test
+    public void TrailingBytesAreDrained() throws IOException
+    {
+        StringBuilder trailing = new StringBuilder("\r\n");
+        for (int i = 0; i < 100; i++)
+            trailing.append("trailing ");
+        ByteArrayInputStream in = new ByteArrayInputStream(("{\"code\":200,\"status\":\"OK\",\"data\":{}}" + trailing).getBytes("UTF-8"));
+
+        PlayFabJsonSuccess<?> success = (PlayFabJsonSuccess<?>) PlayFabHTTP.receiveResult(in, PlayFabServerModels.GetTitleDataResult.class);
+        assertEquals(200, success.code);
+        assertNotNull(success.data);
+        // Read to the end, so the connection can be reused
+        assertEquals(0, in.available());
+    }
+
+    @Test
+    public void MalformedDataIsAParseError() throws IOException
+    {
+        PlayFabError error = (PlayFabError) receive("{\"code\":200,\"status\":\"OK\",\"data\":{\"Data\":[1,2]}}");
+        assertEquals(PlayFabErrorCode.JsonParseError, error.pfErrorCode);
+    }
+
+    // Helpers
+    private static Object receive(String body) throws IOException
+    {
+        return PlayFabHTTP.receiveResult(new ByteArrayInputStream(body.getBytes("UTF-8")), PlayFabServerModels.GetTitleDataResult.class);
+    }
+}
@@ -0,0 +1,184 @@
+package com.playfab.test;
+
+import static org.junit.Assert.*;
+import org.junit.*;
+
+import java.io.*;
+import java.net.*;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.*;
+
+import com.sun.net.httpserver.*;
+
+import com.playfab.PlayFabApiContext;
+import com.playfab.PlayFabErrors.*;
+import com.playfab.PlayFabFuture;
+import com.playfab.PlayFabServerAPI;
+import com.playfab.PlayFabServerInstanceAPI;
+import com.playfab.PlayFabServerModels;
+import com.playfab.PlayFabSettings;
+import com.playfab.internal.PlayFabRequestCoalescer;
+
+/**
+ * Identical concurrent calls sharing one round trip, against a local stub server that answers after 200 milliseconds
+ */
+public class PlayFabRequestCoalescerTest
+{
+    private static HttpServer server;
+    private static final AtomicInteger calls = new AtomicInteger();
+    private static String productionUrl;
+    private static String developerSecretKey;
+
+    @BeforeClass
+    public static void startServer() throws IOException
+    {
+        server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 0);
+        server.setExecutor(Executors.newCachedThreadPool());
+        server.createContext("/", new HttpHandler() {
+            public void handle(HttpExchange exchange) throws IOException {
+                InputStream body = exchange.getRequestBody();
+                while (body.read() != -1) { }
+                calls.incrementAndGet();
+                try {
+                    Thread.sleep(200);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                byte[] bytes = "{\"code\":200,\"status\":\"OK\",\"data\":{\"Data\":{\"key\":\"value\"}}}".getBytes("UTF-8");
+                exchange.sendResponseHeaders(200, bytes.length);
+                exchange.getResponseBody().write(bytes);
+                exchange.close();
+            }
+        });
+        server.start();
+
+        productionUrl = PlayFabSettings.ProductionEnvironmentUrl;
+        developerSecretKey = PlayFabSettings.DeveloperSecretKey;
+        PlayFabSettings.ProductionEnvironmentUrl = "http://127.0.0.1:" + server.getAddress().getPort();
+        PlayFabSettings.DeveloperSecretKey = "coalescer-test";
+    }
+
+    @AfterClass
+    public static void stopServer()
+    {
+        server.stop(0);
+        PlayFabSettings.ProductionEnvironmentUrl = productionUrl;
+        PlayFabSettings.DeveloperSecretKey = developerSecretKey;
+    }
+
+    @Before
+    public void resetCalls()
+    {
+        calls.set(0);
+    }
+
+    @After
+    public void disableCoalescing()
+    {
+        PlayFabSettings.RequestCoalescer = null;
+    }
+
+    private static PlayFabServerModels.GetTitleDataRequest titleData(String... keys)
+    {
+        PlayFabServerModels.GetTitleDataRequest request = new PlayFabServerModels.GetTitleDataRequest();
+        request.Keys = new ArrayList<String>(Arrays.asList(keys));
+        return request;
+    }
+
+    @Test
+    public void IdenticalCallsShareOneRoundTrip() throws Exception
+    {
+        PlayFabRequestCoalescer coalescer = new PlayFabRequestCoalescer("/Server/GetTitleData");
+        PlayFabSettings.RequestCoalescer = coalescer;
+
+        List<PlayFabFuture<PlayFabResult<PlayFabServerModels.GetTitleDataResult>>> results = new ArrayList<PlayFabFuture<PlayFabResult<PlayFabServerModels.GetTitleDataResult>>>();
+        for (int i = 0; i < 50; i++)
+            results.add(PlayFabServerAPI.async().GetTitleData(titleData("a", "b")));
+        PlayFabServerModels.GetTitleDataResult first = results.get(0).get(10, TimeUnit.SECONDS).Result;
+        assertEquals("value", first.Data.get("key"));
+        for (PlayFabFuture<PlayFabResult<PlayFabServerModels.GetTitleDataResult>> result : results)
+            assertSame(first, result.get(10, TimeUnit.SECONDS).Result);
+
+        assertEquals(1, calls.get());
+        PlayFabRequestCoalescer.Stats stats = coalescer.getStats().get("/Server/GetTitleData");
+        assertEquals(1, stats.calls);
+        assertEquals(49, stats.joined);
+    }
+
+    @Test
+    public void DifferentRequestsAndCredentialsAreSentApart() throws Exception
+    {
+        PlayFabSettings.RequestCoalescer = new PlayFabRequestCoalescer("/Server/GetTitleData");
+        PlayFabServerInstanceAPI otherTitle = new PlayFabServerInstanceAPI(PlayFabApiContext.fromSettings().withDeveloperSecretKey("other-key"));
+
+        List<PlayFabFuture<PlayFabResult<PlayFabServerModels.GetTitleDataResult>>> results = new ArrayList<PlayFabFuture<PlayFabResult<PlayFabServerModels.GetTitleDataResult>>>();
+        for (int i = 0; i < 10; i++) {
+            results.add(PlayFabServerAPI.async().GetTitleData(titleData("a")));
+            results.add(PlayFabServerAPI.async().GetTitleData(titleData("b")));
+            results.add(otherTitle.async().GetTitleData(titleData("a")));
+        }
+        for (PlayFabFuture<PlayFabResult<PlayFabServerModels.GetTitleDataResult>> result : results)
+            assertNull(result.get(10, TimeUnit.SECONDS).Error);
+        assertEquals(3, calls.get());
+    }
+
+    @Test
+    public void OnlyCallsInFlightTogetherAreJoined() throws Exception
+    {
+        PlayFabSettings.RequestCoalescer = new PlayFabRequestCoalescer("/Server/GetTitleData");
+        assertNull(PlayFabServerAPI.GetTitleData(titleData("a")).Error);
+        assertNull(PlayFabServerAPI.GetTitleData(titleData("a")).Error);
+        assertEquals(2, calls.get());
+    }
+
+    @Test
+    public void EndpointsNotNamedAreNeverCoalesced() throws Exception
+    {
+        PlayFabSettings.RequestCoalescer = new PlayFabRequestCoalescer("/Server/GetUserReadOnlyData");
+        List<PlayFabFuture<PlayFabResult<PlayFabServerModels.GetTitleDataResult>>> results = new ArrayList<PlayFabFuture<PlayFabResult<PlayFabServerModels.GetTitleDataResult>>>();
+        for (int i = 0; i < 5; i++)
+            results.add(PlayFabServerAPI.async().GetTitleData(titleData("a")));
+        for (PlayFabFuture<PlayFabResult<PlayFabServerModels.GetTitleDataResult>> result : results)
+            assertNull(result.get(10, TimeUnit.SECONDS).Error);
+        assertEquals(5, calls.get());
+    }
+
+    @Test
+    public void CancellingTheFirstCallerLeavesTheOthersWaiting() throws Exception
+    {
+        PlayFabSettings.RequestCoalescer = new PlayFabRequestCoalescer("/Server/GetTitleData");
+        PlayFabFuture<PlayFabResult<PlayFabServerModels.GetTitleDataResult>> leader = PlayFabServerAPI.async().GetTitleData(titleData("a"));
+        awaitCalls(1);
+        PlayFabFuture<PlayFabResult<PlayFabServerModels.GetTitleDataResult>> joiner = PlayFabServerAPI.async().GetTitleData(titleData("a"));
+        Thread.sleep(50);
+
+        assertTrue(leader.cancel(true));
+        PlayFabResult<PlayFabServerModels.GetTitleDataResult> result = joiner.get(10, TimeUnit.SECONDS);
+        assertNull(result.Error);
+        assertEquals("value", result.Result.Data.get("key"));
+        assertEquals(1, calls.get());
+    }
+
+    @Test
+    public void AbandonedCallsAreNotJoined() throws Exception
+    {
+        PlayFabSettings.RequestCoalescer = new PlayFabRequestCoalescer("/Server/GetTitleData");
+        PlayFabFuture<PlayFabResult<PlayFabServerModels.GetTitleDataResult>> abandoned = PlayFabServerAPI.async().GetTitleData(titleData("a"));
+        awaitCalls(1);
+        assertTrue(abandoned.cancel(true));
+        // The cancelled caller leaves on its own thread, well before the stub would have answered
+        Thread.sleep(50);
+
+        PlayFabResult<PlayFabServerModels.GetTitleDataResult> result = PlayFabServerAPI.async().GetTitleData(titleData("a")).get(10, TimeUnit.SECONDS);
+        assertNull(result.Error);
+        assertEquals(2, calls.get());
+    }
+
+    private static void awaitCalls(int expected) throws InterruptedException
+    {
+        long deadline = System.currentTimeMillis() + 5000;
+        while (calls.get() < expected && System.currentTimeMillis() < deadline)
+            Thread.sleep(5);
+    }
+}
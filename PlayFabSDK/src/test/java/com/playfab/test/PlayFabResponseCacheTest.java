@@ -0,0 +1,325 @@
+package com.playfab.test;
+
+import static org.junit.Assert.*;
+import org.junit.*;
+
+import java.io.*;
+import java.net.*;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.*;
+
+import com.sun.net.httpserver.*;
+
+import com.playfab.PlayFabApiContext;
+import com.playfab.PlayFabErrors.*;
+import com.playfab.PlayFabFuture;
+import com.playfab.PlayFabServerAPI;
+import com.playfab.PlayFabServerInstanceAPI;
+import com.playfab.PlayFabServerModels;
+import com.playfab.PlayFabSettings;
+import com.playfab.internal.PlayFabResponseCache;
+
+/**
+ * Responses served from memory, against a local stub server. Each response carries the number of the call that made it,
+ * requests for the key "fail" get an error, and requests for keys starting "slow" are answered after 200 milliseconds
+ */
+public class PlayFabResponseCacheTest
+{
+    private static final String ENDPOINT = "/Server/GetTitleData";
+
+    private static HttpServer server;
+    private static final AtomicInteger calls = new AtomicInteger();
+    private static String productionUrl;
+    private static String developerSecretKey;
+
+    @BeforeClass
+    public static void startServer() throws IOException
+    {
+        server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 0);
+        server.setExecutor(Executors.newCachedThreadPool());
+        server.createContext("/", new HttpHandler() {
+            public void handle(HttpExchange exchange) throws IOException {
+                ByteArrayOutputStream body = new ByteArrayOutputStream();
+                InputStream input = exchange.getRequestBody();
+                for (int read = input.read(); read != -1; read = input.read())
+                    body.write(read);
+                int call = calls.incrementAndGet();
+                if (body.toString("UTF-8").contains("\"slow")) {
+                    try {
+                        Thread.sleep(200);
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    }
+                }
+
+                int status = 200;
+                String response = "{\"code\":200,\"status\":\"OK\",\"data\":{\"Data\":{\"call\":\"" + call + "\"}}}";
+                if (body.toString("UTF-8").contains("\"fail\"")) {
+                    status = 400;
+                    response = "{\"code\":400,\"status\":\"BadRequest\",\"error\":\"InvalidParams\",\"errorCode\":1000,\"errorMessage\":\"Invalid\"}";
+                }
+                byte[] bytes = response.getBytes("UTF-8");
+                exchange.sendResponseHeaders(status, bytes.length);
+                exchange.getResponseBody().write(bytes);
+                exchange.close();
+            }
+        });
+        server.start();
+
+        productionUrl = PlayFabSettings.ProductionEnvironmentUrl;
+        developerSecretKey = PlayFabSettings.DeveloperSecretKey;
+        PlayFabSettings.ProductionEnvironmentUrl = "http://127.0.0.1:" + server.getAddress().getPort();
+        PlayFabSettings.DeveloperSecretKey = "response-cache-test";
+    }
+
+    @AfterClass
+    public static void stopServer()
+    {
+        server.stop(0);
+        PlayFabSettings.ProductionEnvironmentUrl = productionUrl;
+        PlayFabSettings.DeveloperSecretKey = developerSecretKey;
+    }
+
+    @Before
+    public void resetCalls()
+    {
+        calls.set(0);
+    }
+
+    @After
+    public void disableCache()
+    {
+        PlayFabSettings.ResponseCache = null;
+    }
+
+    private static PlayFabResponseCache cache(long timeToLive, int maxEntries, long maxBytes, long refreshAhead)
+    {
+        PlayFabResponseCache.Policy policy = new PlayFabResponseCache.Policy();
+        policy.TimeToLiveMilliseconds = timeToLive;
+        policy.MaxEntries = maxEntries;
+        policy.MaxBytes = maxBytes;
+        policy.RefreshAheadMilliseconds = refreshAhead;
+        PlayFabResponseCache cache = new PlayFabResponseCache();
+        cache.setPolicy(ENDPOINT, policy);
+        PlayFabSettings.ResponseCache = cache;
+        return cache;
+    }
+
+    private static PlayFabResult<PlayFabServerModels.GetTitleDataResult> read(String key)
+    {
+        return PlayFabServerAPI.GetTitleData(titleData(key));
+    }
+
+    private static PlayFabFuture<PlayFabResult<PlayFabServerModels.GetTitleDataResult>> readAsync(String key)
+    {
+        return PlayFabServerAPI.async().GetTitleData(titleData(key));
+    }
+
+    private static PlayFabServerModels.GetTitleDataRequest titleData(String key)
+    {
+        PlayFabServerModels.GetTitleDataRequest request = new PlayFabServerModels.GetTitleDataRequest();
+        request.Keys = new ArrayList<String>(Arrays.asList(key));
+        return request;
+    }
+
+    private static Callable<Object> constant(final Object value)
+    {
+        return new Callable<Object>() {
+            public Object call() {
+                return value;
+            }
+        };
+    }
+
+    @Test
+    public void RepeatedReadsAreServedFromMemory() throws Exception
+    {
+        PlayFabResponseCache cache = cache(60000, 100, 0, 0);
+        PlayFabServerModels.GetTitleDataResult first = read("a").Result;
+        for (int i = 0; i < 99; i++)
+            assertSame(first, read("a").Result);
+        assertEquals(1, calls.get());
+
+        assertEquals("2", read("b").Result.Data.get("call"));
+        PlayFabServerInstanceAPI otherTitle = new PlayFabServerInstanceAPI(PlayFabApiContext.fromSettings().withDeveloperSecretKey("other-key"));
+        PlayFabServerModels.GetTitleDataRequest request = new PlayFabServerModels.GetTitleDataRequest();
+        request.Keys = new ArrayList<String>(Arrays.asList("a"));
+        assertEquals("3", otherTitle.GetTitleData(request).Result.Data.get("call"));
+
+        PlayFabResponseCache.Stats stats = cache.getStats().get(ENDPOINT);
+        assertEquals(99, stats.hits);
+        assertEquals(3, stats.misses);
+        assertEquals(3, stats.entries);
+        assertTrue(stats.bytes > 0);
+    }
+
+    @Test
+    public void EntriesExpire() throws Exception
+    {
+        PlayFabResponseCache cache = cache(200, 100, 0, 0);
+        assertEquals("1", read("a").Result.Data.get("call"));
+        Thread.sleep(300);
+        assertEquals("2", read("a").Result.Data.get("call"));
+        assertEquals(1, cache.getStats().get(ENDPOINT).expirations);
+    }
+
+    @Test
+    public void RefreshAheadKeepsHotKeysFromMissing() throws Exception
+    {
+        PlayFabResponseCache cache = cache(600, 100, 0, 400);
+        assertEquals("1", read("a").Result.Data.get("call"));
+        Thread.sleep(300);
+
+        // Inside the refresh-ahead window: served from memory while a reload runs
+        assertEquals("1", read("a").Result.Data.get("call"));
+        long deadline = System.currentTimeMillis() + 5000;
+        while (calls.get() < 2 && System.currentTimeMillis() < deadline)
+            Thread.sleep(5);
+        Thread.sleep(50);
+        assertEquals("2", read("a").Result.Data.get("call"));
+
+        PlayFabResponseCache.Stats stats = cache.getStats().get(ENDPOINT);
+        assertEquals(1, stats.misses);
+        assertEquals(1, stats.refreshes);
+    }
+
+    @Test
+    public void ErrorsAreNotCached() throws Exception
+    {
+        cache(60000, 100, 0, 0);
+        assertEquals(PlayFabErrorCode.InvalidParams, read("fail").Error.pfErrorCode);
+        assertEquals(PlayFabErrorCode.InvalidParams, read("fail").Error.pfErrorCode);
+        assertEquals(2, calls.get());
+    }
+
+    @Test
+    public void FrequentlyReadEntriesSurviveAScan() throws Exception
+    {
+        PlayFabResponseCache cache = cache(60000, 10, 0, 0);
+        for (int i = 0; i < 20; i++)
+            read("hot");
+        for (int i = 0; i < 100; i++)
+            read("scan" + i);
+        int before = calls.get();
+        assertEquals("1", read("hot").Result.Data.get("call"));
+        assertEquals(before, calls.get());
+
+        PlayFabResponseCache.Stats stats = cache.getStats().get(ENDPOINT);
+        assertEquals(10, stats.entries);
+        assertEquals(91, stats.evictions);
+    }
+
+    @Test
+    public void MaxBytesBoundsTheCache() throws Exception
+    {
+        PlayFabResponseCache cache = cache(60000, 100, 1000, 0);
+        for (int i = 0; i < 50; i++)
+            read("key" + i);
+        PlayFabResponseCache.Stats stats = cache.getStats().get(ENDPOINT);
+        assertTrue(stats.bytes <= 1000);
+        assertTrue(stats.evictions > 0);
+        assertEquals(50 - stats.evictions, stats.entries);
+    }
+
+    @Test
+    public void RepeatedlyMissedKeysDisplaceOneOffKeys() throws Exception
+    {
+        PlayFabResponseCache cache = cache(60000, 10, 0, 0);
+        for (int i = 0; i < 10; i++)
+            read("once" + i);
+
+        // Five misses of one key, sharing one call, make it more popular than any key read once
+        List<PlayFabFuture<PlayFabResult<PlayFabServerModels.GetTitleDataResult>>> misses = new ArrayList<PlayFabFuture<PlayFabResult<PlayFabServerModels.GetTitleDataResult>>>();
+        for (int i = 0; i < 5; i++)
+            misses.add(readAsync("slow-wanted"));
+        for (PlayFabFuture<PlayFabResult<PlayFabServerModels.GetTitleDataResult>> miss : misses)
+            assertNull(miss.get(10, TimeUnit.SECONDS).Error);
+        assertEquals(11, calls.get());
+
+        // Leaving the admission window, it displaces the eldest one-off key instead of being dropped itself
+        read("once10");
+        int before = calls.get();
+        read("slow-wanted");
+        assertEquals(before, calls.get());
+        read("once0");
+        assertEquals(before + 1, calls.get());
+        assertEquals(17, cache.getStats().get(ENDPOINT).misses);
+    }
+
+    @Test
+    public void LoadsInFlightAreNotCachedAfterAnInvalidation() throws Exception
+    {
+        final PlayFabResponseCache cache = cache(60000, 100, 0, 0);
+        final CountDownLatch loading = new CountDownLatch(1);
+        final CountDownLatch release = new CountDownLatch(1);
+        PlayFabFuture<Object> stale = PlayFabFuture.start(new Callable<Object>() {
+            public Object call() throws Exception {
+                return cache.get(ENDPOINT, "key", new Callable<Object>() {
+                    public Object call() throws Exception {
+                        loading.countDown();
+                        release.await();
+                        return "before";
+                    }
+                });
+            }
+        });
+        assertTrue(loading.await(5, TimeUnit.SECONDS));
+        cache.invalidate(ENDPOINT);
+
+        // A miss after the invalidation makes its own call rather than joining the one in flight
+        PlayFabFuture<Object> fresh = PlayFabFuture.start(new Callable<Object>() {
+            public Object call() throws Exception {
+                return cache.get(ENDPOINT, "key", constant("after"));
+            }
+        });
+        try {
+            assertEquals("after", fresh.get(5, TimeUnit.SECONDS));
+        } finally {
+            release.countDown();
+        }
+        assertEquals("before", stale.get(5, TimeUnit.SECONDS));
+        assertEquals("after", cache.get(ENDPOINT, "key", constant("unused")));
+    }
+
+    @Test
+    public void AFailedRefreshIsTriedAgain() throws Exception
+    {
+        final PlayFabResponseCache cache = cache(60000, 100, 0, 60000);
+        final AtomicInteger refreshes = new AtomicInteger();
+        Callable<Object> failing = new Callable<Object>() {
+            public Object call() throws Exception {
+                refreshes.incrementAndGet();
+                throw new IOException("unreachable");
+            }
+        };
+        assertEquals("cached", cache.get(ENDPOINT, "key", constant("cached")));
+        for (int i = 1; i <= 3; i++) {
+            assertEquals("cached", cache.get(ENDPOINT, "key", failing));
+            long deadline = System.currentTimeMillis() + 5000;
+            while (refreshes.get() < i && System.currentTimeMillis() < deadline)
+                Thread.sleep(5);
+            Thread.sleep(20);
+        }
+        assertEquals(3, refreshes.get());
+    }
+
+    @Test
+    public void CancellingOneMissLeavesTheOthersWaiting() throws Exception
+    {
+        cache(60000, 100, 0, 0);
+        PlayFabFuture<PlayFabResult<PlayFabServerModels.GetTitleDataResult>> first = readAsync("slow-a");
+        long deadline = System.currentTimeMillis() + 5000;
+        while (calls.get() < 1 && System.currentTimeMillis() < deadline)
+            Thread.sleep(5);
+        PlayFabFuture<PlayFabResult<PlayFabServerModels.GetTitleDataResult>> second = readAsync("slow-a");
+        Thread.sleep(50);
+
+        assertTrue(first.cancel(true));
+        PlayFabResult<PlayFabServerModels.GetTitleDataResult> result = second.get(10, TimeUnit.SECONDS);
+        assertNull(result.Error);
+        assertEquals("1", result.Result.Data.get("call"));
+        assertEquals("1", read("slow-a").Result.Data.get("call"));
+        assertEquals(1, calls.get());
+    }
+}
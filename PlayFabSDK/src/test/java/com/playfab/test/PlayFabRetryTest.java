@@ -0,0 +1,253 @@
+package com.playfab.test;
+
+import static org.junit.Assert.*;
+import org.junit.*;
+
+import java.io.*;
+import java.net.*;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.*;
+
+import com.sun.net.httpserver.*;
+
+import com.playfab.PlayFabErrors.*;
+import com.playfab.PlayFabSettings;
+import com.playfab.PlayFabServerModels;
+import com.playfab.PlayFabServerAPI;
+import com.playfab.internal.PlayFabHTTP;
+import com.playfab.internal.PlayFabRetryPolicy;
+
+/**
+ * Retries, backoff and retry budgets against a local stub server that fails on request
+ */
+public class PlayFabRetryTest
+{
+    private static final String SUCCESS = "{\"code\":200,\"status\":\"OK\",\"data\":{\"PlayFabId\":\"1337D00D\"}}";
+    private static final String UNAVAILABLE = "{\"code\":503,\"status\":\"ServiceUnavailable\",\"error\":\"ServiceUnavailable\",\"errorCode\":1123,\"errorMessage\":\"Unavailable\"}";
+    private static final String INVALID = "{\"code\":400,\"status\":\"BadRequest\",\"error\":\"InvalidParams\",\"errorCode\":1000,\"errorMessage\":\"Invalid\"}";
+    private static final String INTERNAL = "{\"code\":500,\"status\":\"InternalServerError\",\"error\":\"InternalServerError\",\"errorCode\":1110,\"errorMessage\":\"Failed\"}";
+    // A 200 with no body, and a 200 claiming a gzip body that is not one
+    private static final String EMPTY = "EMPTY";
+    private static final String GARBLED = "GARBLED";
+
+    private static HttpServer server;
+    private static String productionUrl;
+    private static String developerSecretKey;
+
+    // Responses the stub sends before it starts succeeding, and the requests it received
+    private static final Queue<String> failures = new ConcurrentLinkedQueue<String>();
+    private static final AtomicInteger requests = new AtomicInteger();
+    private static volatile boolean alwaysFail = false;
+
+    @BeforeClass
+    public static void startServer() throws IOException
+    {
+        server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 0);
+        server.setExecutor(Executors.newCachedThreadPool());
+        server.createContext("/", new HttpHandler() {
+            public void handle(HttpExchange exchange) throws IOException {
+                readAll(exchange.getRequestBody());
+                requests.incrementAndGet();
+                String response = failures.poll();
+                if (response == null)
+                    response = alwaysFail ? UNAVAILABLE : SUCCESS;
+                if (EMPTY.equals(response) || GARBLED.equals(response)) {
+                    byte[] body = EMPTY.equals(response) ? new byte[0] : "not gzip".getBytes("UTF-8");
+                    if (GARBLED.equals(response))
+                        exchange.getResponseHeaders().set("Content-Encoding", "gzip");
+                    exchange.sendResponseHeaders(200, body.length == 0 ? -1 : body.length);
+                    exchange.getResponseBody().write(body);
+                    exchange.close();
+                    return;
+                }
+                int status = Integer.parseInt(response.substring(8, 11));
+                byte[] bytes = response.getBytes("UTF-8");
+                exchange.sendResponseHeaders(status, bytes.length);
+                exchange.getResponseBody().write(bytes);
+                exchange.close();
+            }
+        });
+        server.start();
+
+        productionUrl = PlayFabSettings.ProductionEnvironmentUrl;
+        developerSecretKey = PlayFabSettings.DeveloperSecretKey;
+        PlayFabSettings.ProductionEnvironmentUrl = "http://127.0.0.1:" + server.getAddress().getPort();
+        PlayFabSettings.DeveloperSecretKey = "retry-test";
+    }
+
+    @AfterClass
+    public static void stopServer()
+    {
+        server.stop(0);
+        PlayFabSettings.ProductionEnvironmentUrl = productionUrl;
+        PlayFabSettings.DeveloperSecretKey = developerSecretKey;
+    }
+
+    @Before
+    public void resetState()
+    {
+        failures.clear();
+        requests.set(0);
+        alwaysFail = false;
+        PlayFabSettings.MaxRetries = 2;
+        PlayFabSettings.RetryBaseDelayMilliseconds = 1;
+        PlayFabSettings.RetryMaxDelayMilliseconds = 2000;
+        PlayFabHTTP.getRetryPolicy().reset();
+    }
+
+    @After
+    public void restoreSettings()
+    {
+        PlayFabSettings.MaxRetries = 0;
+        PlayFabSettings.RetryServerErrors = false;
+        PlayFabSettings.RetryBaseDelayMilliseconds = 100;
+        PlayFabSettings.RetryMaxDelayMilliseconds = 10000;
+        PlayFabSettings.RetryBudgetRatio = 0.1;
+        PlayFabSettings.RetryBudgetBurst = 10;
+        PlayFabHTTP.getRetryPolicy().reset();
+    }
+
+    @Test
+    public void UnavailableCallsAreRetriedUntilTheySucceed()
+    {
+        failures.add(UNAVAILABLE);
+        failures.add(UNAVAILABLE);
+        PlayFabResult<PlayFabServerModels.GetUserDataResult> result = call();
+
+        assertNull(result.Error);
+        assertEquals("1337D00D", result.Result.PlayFabId);
+        assertEquals(3, requests.get());
+        PlayFabRetryPolicy.Stats stats = getStats();
+        assertEquals(2, stats.retries);
+        assertEquals(1, stats.recovered);
+    }
+
+    @Test
+    public void RetriesStopAtMaxRetries()
+    {
+        alwaysFail = true;
+        PlayFabResult<PlayFabServerModels.GetUserDataResult> result = call();
+
+        assertEquals(PlayFabErrorCode.ServiceUnavailable, result.Error.pfErrorCode);
+        assertEquals(3, requests.get());
+        assertEquals(1, getStats().exhausted);
+    }
+
+    @Test
+    public void ClientErrorsAreNotRetried()
+    {
+        failures.add(INVALID);
+        PlayFabResult<PlayFabServerModels.GetUserDataResult> result = call();
+
+        assertEquals(PlayFabErrorCode.InvalidParams, result.Error.pfErrorCode);
+        assertEquals(1, requests.get());
+    }
+
+    @Test
+    public void ServerErrorsAreOnlyRetriedWhenEnabled()
+    {
+        failures.add(INTERNAL);
+        assertEquals(500, call().Error.httpCode);
+        assertEquals(1, requests.get());
+
+        PlayFabSettings.RetryServerErrors = true;
+        failures.add(INTERNAL);
+        assertNull(call().Error);
+        assertEquals(3, requests.get());
+    }
+
+    @Test
+    public void UnreadableResponsesAreNotResent()
+    {
+        // The server answered, so the call was applied: sending it again could apply it twice
+        failures.add(EMPTY);
+        assertEquals(PlayFabErrorCode.ServiceUnavailable, call().Error.pfErrorCode);
+        assertEquals(1, requests.get());
+
+        failures.add(GARBLED);
+        assertNotNull(call().Error);
+        assertEquals(2, requests.get());
+        assertEquals(0, getStats().retries);
+    }
+
+    @Test
+    public void RetryAfterSecondsIsWaitedOut()
+    {
+        failures.add("{\"code\":429,\"status\":\"TooManyRequests\",\"error\":\"APIClientRequestRateLimitExceeded\",\"errorCode\":1199,\"errorMessage\":\"Slow down\",\"retryAfterSeconds\":1}");
+        long start = System.nanoTime();
+        PlayFabResult<PlayFabServerModels.GetUserDataResult> result = call();
+
+        assertNull(result.Error);
+        assertEquals(2, requests.get());
+        assertTrue(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start) >= 1000);
+    }
+
+    @Test
+    public void RetryAfterLongerThanTheCapIsReturned()
+    {
+        failures.add("{\"code\":429,\"status\":\"TooManyRequests\",\"error\":\"APIClientRequestRateLimitExceeded\",\"errorCode\":1199,\"errorMessage\":\"Slow down\",\"retryAfterSeconds\":60}");
+        PlayFabResult<PlayFabServerModels.GetUserDataResult> result = call();
+
+        assertEquals(PlayFabErrorCode.APIClientRequestRateLimitExceeded, result.Error.pfErrorCode);
+        assertEquals(Integer.valueOf(60), result.Error.retryAfterSeconds);
+        assertEquals(1, requests.get());
+    }
+
+    @Test
+    public void TheRetryBudgetLimitsRetriesDuringAnOutage()
+    {
+        alwaysFail = true;
+        PlayFabSettings.RetryBudgetBurst = 1;
+        PlayFabSettings.RetryBudgetRatio = 0;
+        for (int i = 0; i < 5; i++)
+            assertNotNull(call().Error);
+
+        // The one token in the bucket pays for the first retry, and nothing earns another
+        assertEquals(6, requests.get());
+        PlayFabRetryPolicy.Stats stats = getStats();
+        assertEquals(1, stats.retries);
+        assertEquals(5, stats.budgetExhausted);
+        assertEquals(Double.valueOf(0), PlayFabHTTP.getRetryPolicy().getBudgets().get("/Server"));
+    }
+
+    @Test
+    public void RefusedConnectionsAreRetried() throws IOException
+    {
+        ServerSocket closed = new ServerSocket(0, 0, InetAddress.getLoopbackAddress());
+        int port = closed.getLocalPort();
+        closed.close();
+        String stubUrl = PlayFabSettings.ProductionEnvironmentUrl;
+        PlayFabSettings.ProductionEnvironmentUrl = "http://127.0.0.1:" + port;
+        try {
+            assertEquals(PlayFabErrorCode.ServiceUnavailable, call().Error.pfErrorCode);
+        } finally {
+            PlayFabSettings.ProductionEnvironmentUrl = stubUrl;
+        }
+        assertEquals(2, getStats().retries);
+    }
+
+    // Helpers
+    private static PlayFabResult<PlayFabServerModels.GetUserDataResult> call()
+    {
+        PlayFabServerModels.GetUserDataRequest request = new PlayFabServerModels.GetUserDataRequest();
+        request.PlayFabId = "1337D00D";
+        return PlayFabServerAPI.GetUserData(request);
+    }
+
+    private static PlayFabRetryPolicy.Stats getStats()
+    {
+        PlayFabRetryPolicy.Stats stats = PlayFabHTTP.getRetryPolicy().getStats().get("/Server/GetUserData");
+        return stats != null ? stats : new PlayFabRetryPolicy.Stats();
+    }
+
+    private static String readAll(InputStream in) throws IOException
+    {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        byte[] buffer = new byte[4096];
+        int read;
+        while ((read = in.read(buffer)) != -1)
+            out.write(buffer, 0, read);
+        return new String(out.toByteArray(), "UTF-8");
+    }
+}
@@ -0,0 +1,132 @@
+package com.playfab.test;
+
+import java.io.*;
+import java.lang.management.ManagementFactory;
+import java.util.*;
+
+import com.google.gson.*;
+import com.google.gson.reflect.*;
+
+import com.playfab.PlayFabErrors.*;
+import com.playfab.PlayFabServerModels;
+import com.playfab.PlayFabSettings;
+import com.playfab.internal.PlayFabHTTP;
+import com.playfab.internal.PlayFabJson;
+import com.playfab.internal.PlayFabUtf8Writer;
+
+/**
+ * Compares the per-call CPU time and allocation of the shared serialization registry against the previous path, where each
+ * call serialized the request to a String and parsed the response String through a fresh TypeToken.
+ *
+ * Both sides work on the same in-memory payloads, so only serialization is measured. Allocation is read from the JVM's
+ * per-thread allocation counter, which HotSpot based JVMs provide. Run with:
+ *   mvn test-compile exec:java -Dexec.mainClass=com.playfab.test.PlayFabSerializationBenchmark -Dexec.classpathScope=test
+ * Arguments: [iterations] [user data entries]
+ */
+public class PlayFabSerializationBenchmark
+{
+    // What every generated API class used to hold
+    private static final Gson legacyGson = new GsonBuilder().setDateFormat("yyyy-MM-dd'T'HH:mm:ss.SSS'Z'").create();
+
+    private static abstract class Operation
+    {
+        abstract Object run() throws Exception;
+    }
+
+    public static void main(String[] args) throws Exception
+    {
+        int iterations = args.length > 0 ? Integer.parseInt(args[0]) : 200000;
+        int entries = args.length > 1 ? Integer.parseInt(args[1]) : 10;
+
+        final PlayFabServerModels.UpdateUserDataRequest request = new PlayFabServerModels.UpdateUserDataRequest();
+        request.PlayFabId = "1337D00D";
+        request.Data = new HashMap<String, String>();
+        for (int i = 0; i < entries; i++)
+            request.Data.put("key" + i, "value" + i);
+
+        StringBuilder data = new StringBuilder();
+        for (int i = 0; i < entries; i++)
+            data.append(i == 0 ? "" : ",").append("\"key").append(i).append("\":{\"Value\":\"value").append(i).append("\",\"Permission\":\"Private\"}");
+        final byte[] response = ("{\"code\":200,\"status\":\"OK\",\"data\":{\"PlayFabId\":\"1337D00D\",\"DataVersion\":7,\"Data\":{" + data + "}}}").getBytes("UTF-8");
+
+        // Stands in for the connection both request paths write to
+        final ByteArrayOutputStream connection = new ByteArrayOutputStream(4096);
+
+        System.out.println("Iterations: " + iterations + ", user data entries: " + entries);
+        measure("Serialize request, per-class Gson to String", iterations, new Operation() {
+            Object run() throws Exception {
+                connection.reset();
+                connection.write(legacyGson.toJson(request).getBytes("UTF-8"));
+                return connection;
+            }
+        });
+        Operation serialize = new Operation() {
+            Object run() throws Exception {
+                connection.reset();
+                PlayFabJson.toJson(request, new PlayFabUtf8Writer(connection));
+                return connection;
+            }
+        };
+        PlayFabSettings.UseReflectiveSerialization = true;
+        measure("Serialize request, registry, reflective adapters", iterations, serialize);
+        PlayFabSettings.UseReflectiveSerialization = false;
+        measure("Serialize request, registry, generated adapters", iterations, serialize);
+        measure("Parse response, String and new TypeToken", iterations, new Operation() {
+            Object run() throws Exception {
+                String json = legacyReceive(new ByteArrayInputStream(response));
+                PlayFabJsonSuccess<PlayFabServerModels.GetUserDataResult> result = legacyGson.fromJson(json, new TypeToken<PlayFabJsonSuccess<PlayFabServerModels.GetUserDataResult>>(){}.getType());
+                return result.data;
+            }
+        });
+        Operation parse = new Operation() {
+            Object run() throws Exception {
+                return PlayFabHTTP.receiveResult(new ByteArrayInputStream(response), PlayFabServerModels.GetUserDataResult.class);
+            }
+        };
+        PlayFabSettings.UseReflectiveSerialization = true;
+        measure("Parse response, registry, reflective adapters", iterations, parse);
+        PlayFabSettings.UseReflectiveSerialization = false;
+        measure("Parse response, registry, generated adapters", iterations, parse);
+    }
+
+    private static void measure(String name, int iterations, Operation operation) throws Exception
+    {
+        // Warm up, so the JIT has compiled both paths before they are timed
+        for (int i = 0; i < Math.min(iterations, 50000); i++)
+            operation.run();
+
+        long allocatedBefore = allocatedBytes();
+        long start = System.nanoTime();
+        Object sink = null;
+        for (int i = 0; i < iterations; i++)
+            sink = operation.run();
+        long elapsed = System.nanoTime() - start;
+        long allocated = allocatedBytes() - allocatedBefore;
+        if (sink == null)
+            throw new IllegalStateException(name + " produced no result");
+
+        System.out.println(String.format("%-50s %8.0f ns/call %8s B/call", name, (double) elapsed / iterations,
+            allocated < 0 ? "n/a" : String.valueOf(allocated / iterations)));
+    }
+
+    // PlayFabHTTP.receive as it was before the registry
+    private static String legacyReceive(InputStream in) throws IOException
+    {
+        StringBuilder received = new StringBuilder();
+        Reader reader = new InputStreamReader(in, "UTF-8");
+        char[] buffer = new char[4096];
+        int count;
+        while ((count = reader.read(buffer)) != -1)
+            received.append(buffer, 0, count);
+        reader.close();
+        return received.toString();
+    }
+
+    private static long allocatedBytes()
+    {
+        java.lang.management.ThreadMXBean threads = ManagementFactory.getThreadMXBean();
+        if (!(threads instanceof com.sun.management.ThreadMXBean))
+            return -1;
+        return ((com.sun.management.ThreadMXBean) threads).getThreadAllocatedBytes(Thread.currentThread().getId());
+    }
+}
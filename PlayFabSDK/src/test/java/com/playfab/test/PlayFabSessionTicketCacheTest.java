@@ -0,0 +1,182 @@
+package com.playfab.test;
+
+import static org.junit.Assert.*;
+import org.junit.*;
+
+import java.io.*;
+import java.net.*;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.*;
+import java.util.regex.*;
+
+import com.sun.net.httpserver.*;
+
+import com.playfab.PlayFabErrors.*;
+import com.playfab.PlayFabFuture;
+import com.playfab.PlayFabServerModels;
+import com.playfab.PlayFabSessionTicketCache;
+import com.playfab.PlayFabSettings;
+
+/**
+ * Session ticket validations cached and shared, against a local stub server. AuthenticateSessionTicket answers after 200
+ * milliseconds: tickets starting "bad" are invalid, tickets starting "down" get a 503, and the rest belong to "id-" + ticket
+ */
+public class PlayFabSessionTicketCacheTest
+{
+    private static final Pattern TICKET = Pattern.compile("\"SessionTicket\":\"(\\w+)\"");
+
+    private static HttpServer server;
+    private static final AtomicInteger calls = new AtomicInteger();
+    private static String productionUrl;
+    private static String developerSecretKey;
+    private static int maxRetries;
+
+    @BeforeClass
+    public static void startServer() throws IOException
+    {
+        server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 0);
+        server.setExecutor(Executors.newCachedThreadPool());
+        server.createContext("/", new HttpHandler() {
+            public void handle(HttpExchange exchange) throws IOException {
+                ByteArrayOutputStream body = new ByteArrayOutputStream();
+                InputStream input = exchange.getRequestBody();
+                for (int read = input.read(); read != -1; read = input.read())
+                    body.write(read);
+                calls.incrementAndGet();
+                try {
+                    Thread.sleep(200);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+
+                Matcher ticket = TICKET.matcher(body.toString("UTF-8"));
+                ticket.find();
+                int status = 200;
+                String response;
+                if (ticket.group(1).startsWith("bad")) {
+                    status = 400;
+                    response = "{\"code\":400,\"status\":\"BadRequest\",\"error\":\"InvalidSessionTicket\",\"errorCode\":1100,\"errorMessage\":\"Invalid session ticket\"}";
+                } else if (ticket.group(1).startsWith("down")) {
+                    status = 503;
+                    response = "{\"code\":503,\"status\":\"ServiceUnavailable\",\"error\":\"ServiceUnavailable\",\"errorCode\":1123,\"errorMessage\":\"Down\"}";
+                } else {
+                    response = "{\"code\":200,\"status\":\"OK\",\"data\":{\"IsSessionTicketExpired\":false,\"UserInfo\":{\"PlayFabId\":\"id-" + ticket.group(1) + "\"}}}";
+                }
+                byte[] bytes = response.getBytes("UTF-8");
+                exchange.sendResponseHeaders(status, bytes.length);
+                exchange.getResponseBody().write(bytes);
+                exchange.close();
+            }
+        });
+        server.start();
+
+        productionUrl = PlayFabSettings.ProductionEnvironmentUrl;
+        developerSecretKey = PlayFabSettings.DeveloperSecretKey;
+        maxRetries = PlayFabSettings.MaxRetries;
+        PlayFabSettings.ProductionEnvironmentUrl = "http://127.0.0.1:" + server.getAddress().getPort();
+        PlayFabSettings.DeveloperSecretKey = "ticket-cache-test";
+        PlayFabSettings.MaxRetries = 0;
+    }
+
+    @AfterClass
+    public static void stopServer()
+    {
+        server.stop(0);
+        PlayFabSettings.ProductionEnvironmentUrl = productionUrl;
+        PlayFabSettings.DeveloperSecretKey = developerSecretKey;
+        PlayFabSettings.MaxRetries = maxRetries;
+    }
+
+    @Before
+    public void resetCalls()
+    {
+        calls.set(0);
+    }
+
+    private static PlayFabSessionTicketCache cache(int maxEntries, long timeToLive, long negativeTimeToLive)
+    {
+        PlayFabSessionTicketCache.Settings settings = new PlayFabSessionTicketCache.Settings();
+        settings.MaxEntries = maxEntries;
+        settings.TimeToLiveMilliseconds = timeToLive;
+        settings.NegativeTimeToLiveMilliseconds = negativeTimeToLive;
+        return new PlayFabSessionTicketCache(settings);
+    }
+
+    @Test
+    public void AReconnectStormMakesOneCall() throws Exception
+    {
+        PlayFabSessionTicketCache cache = cache(100, 60000, 60000);
+        List<PlayFabFuture<PlayFabResult<PlayFabServerModels.AuthenticateSessionTicketResult>>> validations =
+            new ArrayList<PlayFabFuture<PlayFabResult<PlayFabServerModels.AuthenticateSessionTicketResult>>>();
+        for (int i = 0; i < 50; i++)
+            validations.add(cache.authenticateAsync("player1"));
+        for (PlayFabFuture<PlayFabResult<PlayFabServerModels.AuthenticateSessionTicketResult>> validation : validations)
+            assertEquals("id-player1", validation.get(10, TimeUnit.SECONDS).Result.UserInfo.PlayFabId);
+        assertEquals(1, calls.get());
+
+        long start = System.nanoTime();
+        assertEquals("id-player1", cache.authenticate("player1").Result.UserInfo.PlayFabId);
+        assertTrue(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start) < 100);
+        assertEquals(1, calls.get());
+
+        PlayFabSessionTicketCache.Stats stats = cache.getStats();
+        assertEquals(1, stats.calls);
+        assertEquals(49, stats.coalesced);
+        assertEquals(1, stats.hits);
+    }
+
+    @Test
+    public void InvalidTicketsAreRememberedBriefly() throws Exception
+    {
+        PlayFabSessionTicketCache cache = cache(100, 60000, 300);
+        assertEquals(PlayFabErrorCode.InvalidSessionTicket, cache.authenticate("bad1").Error.pfErrorCode);
+        assertEquals(PlayFabErrorCode.InvalidSessionTicket, cache.authenticate("bad1").Error.pfErrorCode);
+        assertEquals(1, calls.get());
+        assertEquals(1, cache.getStats().negativeHits);
+
+        Thread.sleep(400);
+        assertEquals(PlayFabErrorCode.InvalidSessionTicket, cache.authenticate("bad1").Error.pfErrorCode);
+        assertEquals(2, calls.get());
+    }
+
+    @Test
+    public void OutagesAreNotRemembered() throws Exception
+    {
+        PlayFabSessionTicketCache cache = cache(100, 60000, 60000);
+        assertEquals(PlayFabErrorCode.ServiceUnavailable, cache.authenticate("down1").Error.pfErrorCode);
+        assertEquals(PlayFabErrorCode.ServiceUnavailable, cache.authenticate("down1").Error.pfErrorCode);
+        assertEquals(2, calls.get());
+        assertEquals(0, cache.getStats().size);
+    }
+
+    @Test
+    public void ValidTicketsExpireOrCanBeForgotten() throws Exception
+    {
+        PlayFabSessionTicketCache cache = cache(100, 300, 300);
+        assertNull(cache.authenticate("player2").Error);
+        Thread.sleep(400);
+        assertNull(cache.authenticate("player2").Error);
+        assertEquals(2, calls.get());
+
+        cache.invalidate("player2");
+        assertNull(cache.authenticate("player2").Error);
+        assertEquals(3, calls.get());
+    }
+
+    @Test
+    public void TheOldestTicketsAreDroppedBeyondMaxEntries() throws Exception
+    {
+        PlayFabSessionTicketCache cache = cache(3, 60000, 60000);
+        for (int i = 0; i < 5; i++)
+            assertNull(cache.authenticate("player" + i).Error);
+        PlayFabSessionTicketCache.Stats stats = cache.getStats();
+        assertEquals(3, stats.size);
+        assertEquals(2, stats.evictions);
+
+        assertNull(cache.authenticate("player4").Error);
+        assertEquals(5, calls.get());
+        assertNull(cache.authenticate("player0").Error);
+        assertEquals(6, calls.get());
+    }
+}
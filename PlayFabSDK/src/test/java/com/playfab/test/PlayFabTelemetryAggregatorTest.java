@@ -0,0 +1,264 @@
+package com.playfab.test;
+
+import static org.junit.Assert.*;
+import org.junit.*;
+
+import java.lang.reflect.Field;
+import java.util.*;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+import com.playfab.PlayFabEventsModels.*;
+import com.playfab.PlayFabTelemetryAggregator;
+
+/**
+ * Counters, gauges and histograms summarized into events, without sending them anywhere
+ */
+public class PlayFabTelemetryAggregatorTest
+{
+    private PlayFabTelemetryAggregator aggregator;
+
+    @Before
+    public void createAggregator()
+    {
+        PlayFabTelemetryAggregator.Settings settings = new PlayFabTelemetryAggregator.Settings();
+        settings.IntervalMilliseconds = 0;
+        aggregator = new PlayFabTelemetryAggregator(settings);
+    }
+
+    @Test
+    public void CounterSumsAcrossThreadsAndResetsEachInterval() throws Exception
+    {
+        final PlayFabTelemetryAggregator.Counter kills = aggregator.counter("kills", "map", "harbor");
+        List<Thread> threads = new ArrayList<Thread>();
+        for (int t = 0; t < 4; t++) {
+            Thread thread = new Thread(new Runnable() {
+                public void run() {
+                    for (int i = 0; i < 10000; i++)
+                        kills.increment();
+                }
+            });
+            thread.start();
+            threads.add(thread);
+        }
+        for (Thread thread : threads)
+            thread.join();
+
+        List<EventContents> events = aggregator.flush();
+        assertEquals(1, events.size());
+        assertEquals("kills", events.get(0).Name);
+        assertEquals("custom.metrics", events.get(0).EventNamespace);
+        Map<String, Object> payload = payload(events.get(0));
+        assertEquals("counter", payload.get("Type"));
+        assertEquals(40000L, payload.get("Value"));
+        assertEquals(Collections.singletonMap("map", "harbor"), payload.get("Dimensions"));
+
+        assertTrue(aggregator.flush().isEmpty());
+    }
+
+    @Test
+    public void DimensionOrderDoesNotMatter()
+    {
+        assertSame(aggregator.counter("damage", "map", "harbor", "mode", "ranked"), aggregator.counter("damage", "mode", "ranked", "map", "harbor"));
+        assertNotSame(aggregator.counter("damage", "map", "harbor"), aggregator.counter("damage", "map", "docks"));
+        assertEquals(3, aggregator.getStats().series);
+    }
+
+    @Test
+    public void GaugeKeepsLastMinAndMax()
+    {
+        PlayFabTelemetryAggregator.Gauge players = aggregator.gauge("players");
+        players.set(10);
+        players.set(3);
+        players.set(7);
+        Map<String, Object> payload = payload(aggregator.flush().get(0));
+        assertEquals(7.0, payload.get("Last"));
+        assertEquals(3.0, payload.get("Min"));
+        assertEquals(10.0, payload.get("Max"));
+        assertEquals(3L, payload.get("Count"));
+    }
+
+    @Test
+    public void HistogramQuantilesAreWithinRelativeAccuracy()
+    {
+        PlayFabTelemetryAggregator.Histogram frameTime = aggregator.histogram("frame_time");
+        for (int i = 1; i <= 10000; i++)
+            frameTime.record(i / 100.0);
+
+        PlayFabTelemetryAggregator.HistogramSnapshot snapshot = frameTime.snapshot();
+        assertEquals(10000, snapshot.getCount());
+        assertEquals(0.01, snapshot.getMin(), 0);
+        assertEquals(100.0, snapshot.getMax(), 0);
+        assertEquals(50.0, snapshot.getQuantile(0.5), 50.0 * 0.011);
+        assertEquals(99.0, snapshot.getQuantile(0.99), 99.0 * 0.011);
+
+        Map<String, Object> payload = payload(aggregator.flush().get(0));
+        assertEquals("histogram", payload.get("Type"));
+        assertEquals(10000L, payload.get("Count"));
+        assertEquals(50.0, (Double) payload.get("P50"), 50.0 * 0.011);
+        assertFalse(((Map<?, ?>) payload.get("Buckets")).isEmpty());
+    }
+
+    @Test
+    public void HistogramsMergeLikeTheCombinedSamples()
+    {
+        PlayFabTelemetryAggregator.Histogram low = aggregator.histogram("damage", "half", "low");
+        PlayFabTelemetryAggregator.Histogram high = aggregator.histogram("damage", "half", "high");
+        PlayFabTelemetryAggregator.Histogram all = aggregator.histogram("damage");
+        for (int i = 1; i <= 1000; i++) {
+            (i <= 500 ? low : high).record(i);
+            all.record(i);
+        }
+
+        PlayFabTelemetryAggregator.HistogramSnapshot merged = low.snapshot();
+        merged.merge(high.snapshot());
+        PlayFabTelemetryAggregator.HistogramSnapshot expected = all.snapshot();
+        assertEquals(expected.getCount(), merged.getCount());
+        assertEquals(expected.getSum(), merged.getSum(), 0);
+        for (double quantile : new double[] { 0.1, 0.5, 0.9, 0.99 })
+            assertEquals(expected.getQuantile(quantile), merged.getQuantile(quantile), 0);
+    }
+
+    @Test
+    public void SeriesPastTheLimitAreNotEmitted()
+    {
+        PlayFabTelemetryAggregator.Settings settings = new PlayFabTelemetryAggregator.Settings();
+        settings.IntervalMilliseconds = 0;
+        settings.MaxSeries = 2;
+        PlayFabTelemetryAggregator limited = new PlayFabTelemetryAggregator(settings);
+        for (int i = 0; i < 5; i++)
+            limited.counter("hits", "player", "p" + i).increment();
+
+        assertEquals(2, limited.flush().size());
+        assertEquals(3, limited.getStats().overflowed);
+    }
+
+    @Test
+    public void RefusedSeriesShareOneHandleAndAreCountedOnce()
+    {
+        PlayFabTelemetryAggregator.Settings settings = new PlayFabTelemetryAggregator.Settings();
+        settings.IntervalMilliseconds = 0;
+        settings.MaxSeries = 1;
+        PlayFabTelemetryAggregator limited = new PlayFabTelemetryAggregator(settings);
+        limited.counter("hits").increment();
+        for (int i = 0; i < 100; i++) {
+            limited.counter("hits", "player", "p" + i % 2).increment();
+            limited.gauge("health", "player", "p" + i % 2).set(i);
+            limited.histogram("latency", "player", "p" + i % 2).record(i);
+        }
+
+        assertSame(limited.counter("misses"), limited.counter("hits", "player", "p0"));
+        assertSame(limited.gauge("health"), limited.gauge("mana"));
+        assertSame(limited.histogram("latency"), limited.histogram("frame_time"));
+        assertEquals(0, limited.histogram("latency").snapshot().getCount());
+        assertEquals(1, limited.flush().size());
+        assertEquals(11, limited.getStats().overflowed);
+        assertEquals(1, limited.getStats().series);
+    }
+
+    @Test
+    public void CountersOnlyEmitIntervalsWithAValue() throws Exception
+    {
+        final PlayFabTelemetryAggregator.Counter hits = aggregator.counter("hits");
+        final List<Long> values = new ArrayList<Long>();
+        Thread flusher = new Thread(new Runnable() {
+            public void run() {
+                for (int i = 0; i < 2000; i++) {
+                    for (EventContents event : aggregator.flush())
+                        values.add((Long) payload(event).get("Value"));
+                }
+            }
+        });
+        flusher.start();
+        long increments = 0;
+        while (flusher.isAlive()) {
+            hits.increment();
+            increments++;
+        }
+        flusher.join();
+        for (EventContents event : aggregator.flush())
+            values.add((Long) payload(event).get("Value"));
+
+        long total = 0;
+        for (long value : values) {
+            assertTrue(value > 0);
+            total += value;
+        }
+        assertEquals(increments, total);
+    }
+
+    @Test
+    public void HistogramsOnlyAllocateTheBucketsTheirValuesReach() throws Exception
+    {
+        PlayFabTelemetryAggregator.Histogram latency = aggregator.histogram("latency");
+        assertEquals(0, allocatedPages(latency));
+        for (int i = 0; i < 1000; i++)
+            latency.record(100 + i % 10);
+        assertEquals(1, allocatedPages(latency));
+
+        // Extremes reach pages of their own, and still merge and report like a dense layout
+        latency.record(1e-9);
+        latency.record(1e15);
+        assertEquals(3, allocatedPages(latency));
+        PlayFabTelemetryAggregator.HistogramSnapshot snapshot = latency.snapshot();
+        snapshot.merge(latency.snapshot());
+        assertEquals(2004, snapshot.getCount());
+        assertEquals(104.5, snapshot.getQuantile(0.5), 104.5 * 0.011);
+
+        Map<String, Object> payload = payload(aggregator.flush().get(0));
+        assertEquals(1002L, payload.get("Count"));
+        // Five buckets for 100 to 109, and one for each extreme
+        assertEquals(7, ((Map<?, ?>) payload.get("Buckets")).size());
+        // Drained pages are kept for the next interval
+        assertEquals(3, allocatedPages(latency));
+        assertTrue(aggregator.flush().isEmpty());
+    }
+
+    @Test
+    public void NonFiniteSamplesAreIgnoredAndCounted()
+    {
+        PlayFabTelemetryAggregator.Histogram frameTime = aggregator.histogram("frame_time");
+        PlayFabTelemetryAggregator.Gauge players = aggregator.gauge("players");
+        PlayFabTelemetryAggregator.Gauge broken = aggregator.gauge("broken");
+        for (double value : new double[] { 2, Double.NaN, Double.POSITIVE_INFINITY, 4, Double.NEGATIVE_INFINITY }) {
+            frameTime.record(value);
+            players.set(value);
+        }
+        broken.set(Double.NaN);
+
+        List<EventContents> events = aggregator.flush();
+        assertEquals(2, events.size());
+        for (EventContents event : events) {
+            Map<String, Object> payload = payload(event);
+            assertEquals(2L, payload.get("Count"));
+            assertEquals(2.0, payload.get("Min"));
+            assertEquals(4.0, payload.get("Max"));
+            if (event.Name.equals("frame_time")) {
+                assertEquals(6.0, payload.get("Sum"));
+                assertFalse(Double.isNaN((Double) payload.get("P99")));
+            } else {
+                assertEquals("players", event.Name);
+                assertEquals(4.0, payload.get("Last"));
+            }
+        }
+        assertEquals(7, aggregator.getStats().rejected);
+    }
+
+    // Helpers
+    private static int allocatedPages(PlayFabTelemetryAggregator.Histogram histogram) throws Exception
+    {
+        Field field = PlayFabTelemetryAggregator.Histogram.class.getDeclaredField("pages");
+        field.setAccessible(true);
+        AtomicReferenceArray<?> pages = (AtomicReferenceArray<?>) field.get(histogram);
+        int allocated = 0;
+        for (int i = 0; i < pages.length(); i++)
+            if (pages.get(i) != null)
+                allocated++;
+        return allocated;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Map<String, Object> payload(EventContents event)
+    {
+        return (Map<String, Object>) event.Payload;
+    }
+}
@@ -0,0 +1,118 @@
+package com.playfab.test;
+
+import java.io.*;
+import java.net.*;
+import java.util.*;
+import java.util.concurrent.*;
+
+import com.sun.net.httpserver.*;
+
+import com.playfab.PlayFabErrors.*;
+import com.playfab.PlayFabFuture;
+import com.playfab.PlayFabSettings;
+import com.playfab.PlayFabServerModels;
+import com.playfab.PlayFabServerAPI;
+import com.playfab.internal.PlayFabExecutors;
+
+/**
+ * Compares call throughput of the platform-thread FutureTask path against async() calls on virtual threads.
+ *
+ * Calls go to a local stub server that answers every request after a fixed delay, so the numbers measure how many calls
+ * the SDK can keep in flight rather than PlayFab itself. Run with:
+ *   mvn test-compile exec:java -Dexec.mainClass=com.playfab.test.PlayFabThreadingBenchmark -Dexec.classpathScope=test
+ * Arguments: [calls] [platform threads] [server delay ms]
+ */
+public class PlayFabThreadingBenchmark
+{
+    private static final String RESPONSE = "{\"code\":200,\"status\":\"OK\",\"data\":{\"PlayFabId\":\"1337D00D\",\"Data\":{}}}";
+
+    public static void main(String[] args) throws Exception
+    {
+        int calls = args.length > 0 ? Integer.parseInt(args[0]) : 20000;
+        int platformThreads = args.length > 1 ? Integer.parseInt(args[1]) : 200;
+        final int serverDelayMs = args.length > 2 ? Integer.parseInt(args[2]) : 20;
+
+        HttpServer server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 4096);
+        server.setExecutor(Executors.newCachedThreadPool());
+        server.createContext("/", new HttpHandler() {
+            public void handle(HttpExchange exchange) throws IOException {
+                InputStream body = exchange.getRequestBody();
+                while (body.read() != -1) { }
+                try {
+                    Thread.sleep(serverDelayMs);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                byte[] response = RESPONSE.getBytes("UTF-8");
+                exchange.sendResponseHeaders(200, response.length);
+                exchange.getResponseBody().write(response);
+                exchange.close();
+            }
+        });
+        server.start();
+
+        PlayFabSettings.ProductionEnvironmentUrl = "http://127.0.0.1:" + server.getAddress().getPort();
+        PlayFabSettings.DeveloperSecretKey = "benchmark";
+        PlayFabSettings.MaxConnectionsPerHost = 4096;
+
+        try {
+            System.out.println("Calls: " + calls + ", server delay: " + serverDelayMs + " ms");
+            report("Platform threads (" + platformThreads + ") running FutureTask", calls, runPlatformThreads(calls, platformThreads));
+            if (PlayFabExecutors.isVirtualThreadSupported()) {
+                PlayFabSettings.UseVirtualThreads = true;
+                report("Virtual threads running async()", calls, runAsync(calls));
+            } else {
+                System.out.println("Virtual threads need Java 21 or newer, skipping");
+            }
+        } finally {
+            server.stop(0);
+        }
+    }
+
+    private static long runPlatformThreads(int calls, int threads) throws Exception
+    {
+        ExecutorService pool = Executors.newFixedThreadPool(threads);
+        List<FutureTask<PlayFabResult<PlayFabServerModels.GetUserDataResult>>> tasks = new ArrayList<FutureTask<PlayFabResult<PlayFabServerModels.GetUserDataResult>>>(calls);
+        long start = System.nanoTime();
+        for (int i = 0; i < calls; i++) {
+            FutureTask<PlayFabResult<PlayFabServerModels.GetUserDataResult>> task = PlayFabServerAPI.GetUserDataAsync(newRequest(i));
+            pool.execute(task);
+            tasks.add(task);
+        }
+        for (FutureTask<PlayFabResult<PlayFabServerModels.GetUserDataResult>> task : tasks)
+            verify(task.get());
+        long elapsed = System.nanoTime() - start;
+        pool.shutdown();
+        return elapsed;
+    }
+
+    private static long runAsync(int calls) throws Exception
+    {
+        List<PlayFabFuture<PlayFabResult<PlayFabServerModels.GetUserDataResult>>> futures = new ArrayList<PlayFabFuture<PlayFabResult<PlayFabServerModels.GetUserDataResult>>>(calls);
+        long start = System.nanoTime();
+        for (int i = 0; i < calls; i++)
+            futures.add(PlayFabServerAPI.async().GetUserData(newRequest(i)));
+        for (PlayFabFuture<PlayFabResult<PlayFabServerModels.GetUserDataResult>> future : futures)
+            verify(future.get());
+        return System.nanoTime() - start;
+    }
+
+    private static PlayFabServerModels.GetUserDataRequest newRequest(int i)
+    {
+        PlayFabServerModels.GetUserDataRequest request = new PlayFabServerModels.GetUserDataRequest();
+        request.PlayFabId = Integer.toHexString(i);
+        return request;
+    }
+
+    private static void verify(PlayFabResult<PlayFabServerModels.GetUserDataResult> result)
+    {
+        if (result.Error != null)
+            throw new IllegalStateException(result.Error.errorMessage);
+    }
+
+    private static void report(String name, int calls, long elapsedNanos)
+    {
+        double seconds = elapsedNanos / 1e9;
+        System.out.println(String.format("%-45s %8.0f calls/s (%.2f s)", name, calls / seconds, seconds));
+    }
+}
@@ -0,0 +1,103 @@
+package com.playfab.test;
+
+import static org.junit.Assert.*;
+import org.junit.*;
+
+import java.io.*;
+import java.util.*;
+
+import com.playfab.internal.PlayFabUtf8Reader;
+import com.playfab.internal.PlayFabUtf8Writer;
+
+/**
+ * The request and response UTF-8 codecs must agree with the JDK's, including across their buffer boundaries
+ */
+public class PlayFabUtf8Test
+{
+    private static final String SAMPLE = "ascii éß €中文 😀𝄞 end";
+
+    @Test
+    public void WriterMatchesJdkEncoding() throws IOException
+    {
+        Random random = new Random(42);
+        for (int i = 0; i < 200; i++) {
+            String text = randomText(random, random.nextInt(5000));
+            assertArrayEquals(text.getBytes("UTF-8"), write(text));
+        }
+    }
+
+    @Test
+    public void ReaderMatchesJdkDecoding() throws IOException
+    {
+        Random random = new Random(7);
+        for (int i = 0; i < 200; i++) {
+            String text = randomText(random, random.nextInt(5000));
+            assertEquals(text, read(new ByteArrayInputStream(text.getBytes("UTF-8")), 1 + random.nextInt(64)));
+        }
+    }
+
+    @Test
+    public void ReaderHandlesOneByteAtATime() throws IOException
+    {
+        // A stream that returns a single byte per read splits every multi-byte sequence
+        InputStream trickle = new FilterInputStream(new ByteArrayInputStream(SAMPLE.getBytes("UTF-8"))) {
+            @Override
+            public int read(byte[] b, int off, int len) throws IOException {
+                return super.read(b, off, Math.min(len, 1));
+            }
+        };
+        assertEquals(SAMPLE, read(trickle, 1));
+    }
+
+    @Test
+    public void MalformedInputIsReplaced() throws IOException
+    {
+        byte[] malformed = { 'a', (byte) 0xC0, (byte) 0xAF, 'b', (byte) 0xE2, (byte) 0x82 };
+        String decoded = read(new ByteArrayInputStream(malformed), 16);
+        assertTrue(decoded.startsWith("a�"));
+        assertTrue(decoded.contains("b"));
+        assertTrue(decoded.endsWith("�"));
+    }
+
+    @Test
+    public void UnpairedSurrogateIsWrittenAsQuestionMark() throws IOException
+    {
+        assertArrayEquals("a?b?".getBytes("UTF-8"), write("a\ud83db\udc00"));
+    }
+
+    // Helpers
+    private static String randomText(Random random, int length)
+    {
+        StringBuilder text = new StringBuilder();
+        while (text.length() < length) {
+            switch (random.nextInt(4)) {
+                case 0: text.append((char) random.nextInt(0x80)); break;
+                case 1: text.append((char) (0x80 + random.nextInt(0x780))); break;
+                case 2: text.append((char) (0x800 + random.nextInt(0xD000))); break;
+                default: text.appendCodePoint(0x10000 + random.nextInt(0x100000)); break;
+            }
+        }
+        return text.toString();
+    }
+
+    private static byte[] write(String text) throws IOException
+    {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        Writer writer = new PlayFabUtf8Writer(out);
+        writer.write(text);
+        writer.close();
+        return out.toByteArray();
+    }
+
+    private static String read(InputStream in, int chunk) throws IOException
+    {
+        Reader reader = new PlayFabUtf8Reader(in);
+        StringBuilder text = new StringBuilder();
+        char[] buffer = new char[chunk];
+        int count;
+        while ((count = reader.read(buffer)) != -1)
+            text.append(buffer, 0, count);
+        reader.close();
+        return text.toString();
+    }
+}
@@ -0,0 +1,14241 @@
+package com.playfab;
+
+import java.io.IOException;
+import java.util.Date;
+import com.google.gson.*;
+import com.google.gson.reflect.TypeToken;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
+import com.playfab.PlayFabAdminModels.*;
+import com.playfab.internal.PlayFabJson;
+
+/**
+ * Streaming TypeAdapters for every class in PlayFabAdminModels, so models are read and written without field reflection.
+ * PlayFabJson finds FACTORY through this class name. Enums keep Gson's own adapters, which do no per-call reflection.
+ * Generated from PlayFabAdminModels by PlayFabModelAdaptersGenerator, in the PlayFabSDK tests: regenerate rather than edit.
+ */
+public class PlayFabAdminModelsAdapters {
+    public static final TypeAdapterFactory FACTORY = new TypeAdapterFactory() {
+        @SuppressWarnings("unchecked")
+        public <T> TypeAdapter<T> create(Gson gson, TypeToken<T> type) {
+            Class<?> raw = type.getRawType();
+            if (raw.getDeclaringClass() != PlayFabAdminModels.class)
+                return null;
+            switch (raw.getSimpleName()) {
+                case "AbortTaskInstanceRequest": return (TypeAdapter<T>) new AbortTaskInstanceRequestAdapter(gson);
+                case "ActionsOnPlayersInSegmentTaskParameter": return (TypeAdapter<T>) new ActionsOnPlayersInSegmentTaskParameterAdapter(gson);
+                case "ActionsOnPlayersInSegmentTaskSummary": return (TypeAdapter<T>) new ActionsOnPlayersInSegmentTaskSummaryAdapter(gson);
+                case "AdCampaignAttribution": return (TypeAdapter<T>) new AdCampaignAttributionAdapter(gson);
+                case "AdCampaignAttributionModel": return (TypeAdapter<T>) new AdCampaignAttributionModelAdapter(gson);
+                case "AdCampaignSegmentFilter": return (TypeAdapter<T>) new AdCampaignSegmentFilterAdapter(gson);
+                case "AddLocalizedNewsRequest": return (TypeAdapter<T>) new AddLocalizedNewsRequestAdapter(gson);
+                case "AddLocalizedNewsResult": return (TypeAdapter<T>) new AddLocalizedNewsResultAdapter(gson);
+                case "AddNewsRequest": return (TypeAdapter<T>) new AddNewsRequestAdapter(gson);
+                case "AddNewsResult": return (TypeAdapter<T>) new AddNewsResultAdapter(gson);
+                case "AddPlayerTagRequest": return (TypeAdapter<T>) new AddPlayerTagRequestAdapter(gson);
+                case "AddPlayerTagResult": return (TypeAdapter<T>) new AddPlayerTagResultAdapter(gson);
+                case "AddServerBuildRequest": return (TypeAdapter<T>) new AddServerBuildRequestAdapter(gson);
+                case "AddServerBuildResult": return (TypeAdapter<T>) new AddServerBuildResultAdapter(gson);
+                case "AddUserVirtualCurrencyRequest": return (TypeAdapter<T>) new AddUserVirtualCurrencyRequestAdapter(gson);
+                case "AddVirtualCurrencyTypesRequest": return (TypeAdapter<T>) new AddVirtualCurrencyTypesRequestAdapter(gson);
+                case "AllPlayersSegmentFilter": return (TypeAdapter<T>) new AllPlayersSegmentFilterAdapter(gson);
+                case "ApiCondition": return (TypeAdapter<T>) new ApiConditionAdapter(gson);
+                case "BanInfo": return (TypeAdapter<T>) new BanInfoAdapter(gson);
+                case "BanPlayerSegmentAction": return (TypeAdapter<T>) new BanPlayerSegmentActionAdapter(gson);
+                case "BanRequest": return (TypeAdapter<T>) new BanRequestAdapter(gson);
+                case "BanUsersRequest": return (TypeAdapter<T>) new BanUsersRequestAdapter(gson);
+                case "BanUsersResult": return (TypeAdapter<T>) new BanUsersResultAdapter(gson);
+                case "BlankResult": return (TypeAdapter<T>) new BlankResultAdapter(gson);
+                case "CatalogItem": return (TypeAdapter<T>) new CatalogItemAdapter(gson);
+                case "CatalogItemBundleInfo": return (TypeAdapter<T>) new CatalogItemBundleInfoAdapter(gson);
+                case "CatalogItemConsumableInfo": return (TypeAdapter<T>) new CatalogItemConsumableInfoAdapter(gson);
+                case "CatalogItemContainerInfo": return (TypeAdapter<T>) new CatalogItemContainerInfoAdapter(gson);
+                case "CheckLimitedEditionItemAvailabilityRequest": return (TypeAdapter<T>) new CheckLimitedEditionItemAvailabilityRequestAdapter(gson);
+                case "CheckLimitedEditionItemAvailabilityResult": return (TypeAdapter<T>) new CheckLimitedEditionItemAvailabilityResultAdapter(gson);
+                case "CloudScriptFile": return (TypeAdapter<T>) new CloudScriptFileAdapter(gson);
+                case "CloudScriptTaskParameter": return (TypeAdapter<T>) new CloudScriptTaskParameterAdapter(gson);
+                case "CloudScriptTaskSummary": return (TypeAdapter<T>) new CloudScriptTaskSummaryAdapter(gson);
+                case "CloudScriptVersionStatus": return (TypeAdapter<T>) new CloudScriptVersionStatusAdapter(gson);
+                case "ContactEmailInfo": return (TypeAdapter<T>) new ContactEmailInfoAdapter(gson);
+                case "ContactEmailInfoModel": return (TypeAdapter<T>) new ContactEmailInfoModelAdapter(gson);
+                case "ContentInfo": return (TypeAdapter<T>) new ContentInfoAdapter(gson);
+                case "CreateActionsOnPlayerSegmentTaskRequest": return (TypeAdapter<T>) new CreateActionsOnPlayerSegmentTaskRequestAdapter(gson);
+                case "CreateCloudScriptTaskRequest": return (TypeAdapter<T>) new CreateCloudScriptTaskRequestAdapter(gson);
+                case "CreateInsightsScheduledScalingTaskRequest": return (TypeAdapter<T>) new CreateInsightsScheduledScalingTaskRequestAdapter(gson);
+                case "CreateOpenIdConnectionRequest": return (TypeAdapter<T>) new CreateOpenIdConnectionRequestAdapter(gson);
+                case "CreatePlayerSharedSecretRequest": return (TypeAdapter<T>) new CreatePlayerSharedSecretRequestAdapter(gson);
+                case "CreatePlayerSharedSecretResult": return (TypeAdapter<T>) new CreatePlayerSharedSecretResultAdapter(gson);
+                case "CreatePlayerStatisticDefinitionRequest": return (TypeAdapter<T>) new CreatePlayerStatisticDefinitionRequestAdapter(gson);
+                case "CreatePlayerStatisticDefinitionResult": return (TypeAdapter<T>) new CreatePlayerStatisticDefinitionResultAdapter(gson);
+                case "CreateSegmentRequest": return (TypeAdapter<T>) new CreateSegmentRequestAdapter(gson);
+                case "CreateSegmentResponse": return (TypeAdapter<T>) new CreateSegmentResponseAdapter(gson);
+                case "CreateTaskResult": return (TypeAdapter<T>) new CreateTaskResultAdapter(gson);
+                case "DeleteContentRequest": return (TypeAdapter<T>) new DeleteContentRequestAdapter(gson);
+                case "DeleteMasterPlayerAccountRequest": return (TypeAdapter<T>) new DeleteMasterPlayerAccountRequestAdapter(gson);
+                case "DeleteMasterPlayerAccountResult": return (TypeAdapter<T>) new DeleteMasterPlayerAccountResultAdapter(gson);
+                case "DeleteMembershipSubscriptionRequest": return (TypeAdapter<T>) new DeleteMembershipSubscriptionRequestAdapter(gson);
+                case "DeleteMembershipSubscriptionResult": return (TypeAdapter<T>) new DeleteMembershipSubscriptionResultAdapter(gson);
+                case "DeleteOpenIdConnectionRequest": return (TypeAdapter<T>) new DeleteOpenIdConnectionRequestAdapter(gson);
+                case "DeletePlayerRequest": return (TypeAdapter<T>) new DeletePlayerRequestAdapter(gson);
+                case "DeletePlayerResult": return (TypeAdapter<T>) new DeletePlayerResultAdapter(gson);
+                case "DeletePlayerSegmentAction": return (TypeAdapter<T>) new DeletePlayerSegmentActionAdapter(gson);
+                case "DeletePlayerSharedSecretRequest": return (TypeAdapter<T>) new DeletePlayerSharedSecretRequestAdapter(gson);
+                case "DeletePlayerSharedSecretResult": return (TypeAdapter<T>) new DeletePlayerSharedSecretResultAdapter(gson);
+                case "DeletePlayerStatisticSegmentAction": return (TypeAdapter<T>) new DeletePlayerStatisticSegmentActionAdapter(gson);
+                case "DeleteSegmentRequest": return (TypeAdapter<T>) new DeleteSegmentRequestAdapter(gson);
+                case "DeleteSegmentsResponse": return (TypeAdapter<T>) new DeleteSegmentsResponseAdapter(gson);
+                case "DeleteStoreRequest": return (TypeAdapter<T>) new DeleteStoreRequestAdapter(gson);
+                case "DeleteStoreResult": return (TypeAdapter<T>) new DeleteStoreResultAdapter(gson);
+                case "DeleteTaskRequest": return (TypeAdapter<T>) new DeleteTaskRequestAdapter(gson);
+                case "DeleteTitleDataOverrideRequest": return (TypeAdapter<T>) new DeleteTitleDataOverrideRequestAdapter(gson);
+                case "DeleteTitleDataOverrideResult": return (TypeAdapter<T>) new DeleteTitleDataOverrideResultAdapter(gson);
+                case "DeleteTitleRequest": return (TypeAdapter<T>) new DeleteTitleRequestAdapter(gson);
+                case "DeleteTitleResult": return (TypeAdapter<T>) new DeleteTitleResultAdapter(gson);
+                case "EmailNotificationSegmentAction": return (TypeAdapter<T>) new EmailNotificationSegmentActionAdapter(gson);
+                case "EmptyResponse": return (TypeAdapter<T>) new EmptyResponseAdapter(gson);
+                case "EntityKey": return (TypeAdapter<T>) new EntityKeyAdapter(gson);
+                case "ExecuteAzureFunctionSegmentAction": return (TypeAdapter<T>) new ExecuteAzureFunctionSegmentActionAdapter(gson);
+                case "ExecuteCloudScriptResult": return (TypeAdapter<T>) new ExecuteCloudScriptResultAdapter(gson);
+                case "ExecuteCloudScriptSegmentAction": return (TypeAdapter<T>) new ExecuteCloudScriptSegmentActionAdapter(gson);
+                case "ExportMasterPlayerDataRequest": return (TypeAdapter<T>) new ExportMasterPlayerDataRequestAdapter(gson);
+                case "ExportMasterPlayerDataResult": return (TypeAdapter<T>) new ExportMasterPlayerDataResultAdapter(gson);
+                case "FirstLoginDateSegmentFilter": return (TypeAdapter<T>) new FirstLoginDateSegmentFilterAdapter(gson);
+                case "FirstLoginTimespanSegmentFilter": return (TypeAdapter<T>) new FirstLoginTimespanSegmentFilterAdapter(gson);
+                case "GameModeInfo": return (TypeAdapter<T>) new GameModeInfoAdapter(gson);
+                case "GetActionsOnPlayersInSegmentTaskInstanceResult": return (TypeAdapter<T>) new GetActionsOnPlayersInSegmentTaskInstanceResultAdapter(gson);
+                case "GetAllSegmentsRequest": return (TypeAdapter<T>) new GetAllSegmentsRequestAdapter(gson);
+                case "GetAllSegmentsResult": return (TypeAdapter<T>) new GetAllSegmentsResultAdapter(gson);
+                case "GetCatalogItemsRequest": return (TypeAdapter<T>) new GetCatalogItemsRequestAdapter(gson);
+                case "GetCatalogItemsResult": return (TypeAdapter<T>) new GetCatalogItemsResultAdapter(gson);
+                case "GetCloudScriptRevisionRequest": return (TypeAdapter<T>) new GetCloudScriptRevisionRequestAdapter(gson);
+                case "GetCloudScriptRevisionResult": return (TypeAdapter<T>) new GetCloudScriptRevisionResultAdapter(gson);
+                case "GetCloudScriptTaskInstanceResult": return (TypeAdapter<T>) new GetCloudScriptTaskInstanceResultAdapter(gson);
+                case "GetCloudScriptVersionsRequest": return (TypeAdapter<T>) new GetCloudScriptVersionsRequestAdapter(gson);
+                case "GetCloudScriptVersionsResult": return (TypeAdapter<T>) new GetCloudScriptVersionsResultAdapter(gson);
+                case "GetContentListRequest": return (TypeAdapter<T>) new GetContentListRequestAdapter(gson);
+                case "GetContentListResult": return (TypeAdapter<T>) new GetContentListResultAdapter(gson);
+                case "GetContentUploadUrlRequest": return (TypeAdapter<T>) new GetContentUploadUrlRequestAdapter(gson);
+                case "GetContentUploadUrlResult": return (TypeAdapter<T>) new GetContentUploadUrlResultAdapter(gson);
+                case "GetDataReportRequest": return (TypeAdapter<T>) new GetDataReportRequestAdapter(gson);
+                case "GetDataReportResult": return (TypeAdapter<T>) new GetDataReportResultAdapter(gson);
+                case "GetMatchmakerGameInfoRequest": return (TypeAdapter<T>) new GetMatchmakerGameInfoRequestAdapter(gson);
+                case "GetMatchmakerGameInfoResult": return (TypeAdapter<T>) new GetMatchmakerGameInfoResultAdapter(gson);
+                case "GetMatchmakerGameModesRequest": return (TypeAdapter<T>) new GetMatchmakerGameModesRequestAdapter(gson);
+                case "GetMatchmakerGameModesResult": return (TypeAdapter<T>) new GetMatchmakerGameModesResultAdapter(gson);
+                case "GetPlayedTitleListRequest": return (TypeAdapter<T>) new GetPlayedTitleListRequestAdapter(gson);
+                case "GetPlayedTitleListResult": return (TypeAdapter<T>) new GetPlayedTitleListResultAdapter(gson);
+                case "GetPlayerIdFromAuthTokenRequest": return (TypeAdapter<T>) new GetPlayerIdFromAuthTokenRequestAdapter(gson);
+                case "GetPlayerIdFromAuthTokenResult": return (TypeAdapter<T>) new GetPlayerIdFromAuthTokenResultAdapter(gson);
+                case "GetPlayerProfileRequest": return (TypeAdapter<T>) new GetPlayerProfileRequestAdapter(gson);
+                case "GetPlayerProfileResult": return (TypeAdapter<T>) new GetPlayerProfileResultAdapter(gson);
+                case "GetPlayerSegmentsResult": return (TypeAdapter<T>) new GetPlayerSegmentsResultAdapter(gson);
+                case "GetPlayerSharedSecretsRequest": return (TypeAdapter<T>) new GetPlayerSharedSecretsRequestAdapter(gson);
+                case "GetPlayerSharedSecretsResult": return (TypeAdapter<T>) new GetPlayerSharedSecretsResultAdapter(gson);
+                case "GetPlayersInSegmentRequest": return (TypeAdapter<T>) new GetPlayersInSegmentRequestAdapter(gson);
+                case "GetPlayersInSegmentResult": return (TypeAdapter<T>) new GetPlayersInSegmentResultAdapter(gson);
+                case "GetPlayersSegmentsRequest": return (TypeAdapter<T>) new GetPlayersSegmentsRequestAdapter(gson);
+                case "GetPlayerStatisticDefinitionsRequest": return (TypeAdapter<T>) new GetPlayerStatisticDefinitionsRequestAdapter(gson);
+                case "GetPlayerStatisticDefinitionsResult": return (TypeAdapter<T>) new GetPlayerStatisticDefinitionsResultAdapter(gson);
+                case "GetPlayerStatisticVersionsRequest": return (TypeAdapter<T>) new GetPlayerStatisticVersionsRequestAdapter(gson);
+                case "GetPlayerStatisticVersionsResult": return (TypeAdapter<T>) new GetPlayerStatisticVersionsResultAdapter(gson);
+                case "GetPlayerTagsRequest": return (TypeAdapter<T>) new GetPlayerTagsRequestAdapter(gson);
+                case "GetPlayerTagsResult": return (TypeAdapter<T>) new GetPlayerTagsResultAdapter(gson);
+                case "GetPolicyRequest": return (TypeAdapter<T>) new GetPolicyRequestAdapter(gson);
+                case "GetPolicyResponse": return (TypeAdapter<T>) new GetPolicyResponseAdapter(gson);
+                case "GetPublisherDataRequest": return (TypeAdapter<T>) new GetPublisherDataRequestAdapter(gson);
+                case "GetPublisherDataResult": return (TypeAdapter<T>) new GetPublisherDataResultAdapter(gson);
+                case "GetRandomResultTablesRequest": return (TypeAdapter<T>) new GetRandomResultTablesRequestAdapter(gson);
+                case "GetRandomResultTablesResult": return (TypeAdapter<T>) new GetRandomResultTablesResultAdapter(gson);
+                case "GetSegmentResult": return (TypeAdapter<T>) new GetSegmentResultAdapter(gson);
+                case "GetSegmentsRequest": return (TypeAdapter<T>) new GetSegmentsRequestAdapter(gson);
+                case "GetSegmentsResponse": return (TypeAdapter<T>) new GetSegmentsResponseAdapter(gson);
+                case "GetServerBuildInfoRequest": return (TypeAdapter<T>) new GetServerBuildInfoRequestAdapter(gson);
+                case "GetServerBuildInfoResult": return (TypeAdapter<T>) new GetServerBuildInfoResultAdapter(gson);
+                case "GetServerBuildUploadURLRequest": return (TypeAdapter<T>) new GetServerBuildUploadURLRequestAdapter(gson);
+                case "GetServerBuildUploadURLResult": return (TypeAdapter<T>) new GetServerBuildUploadURLResultAdapter(gson);
+                case "GetStoreItemsRequest": return (TypeAdapter<T>) new GetStoreItemsRequestAdapter(gson);
+                case "GetStoreItemsResult": return (TypeAdapter<T>) new GetStoreItemsResultAdapter(gson);
+                case "GetTaskInstanceRequest": return (TypeAdapter<T>) new GetTaskInstanceRequestAdapter(gson);
+                case "GetTaskInstancesRequest": return (TypeAdapter<T>) new GetTaskInstancesRequestAdapter(gson);
+                case "GetTaskInstancesResult": return (TypeAdapter<T>) new GetTaskInstancesResultAdapter(gson);
+                case "GetTasksRequest": return (TypeAdapter<T>) new GetTasksRequestAdapter(gson);
+                case "GetTasksResult": return (TypeAdapter<T>) new GetTasksResultAdapter(gson);
+                case "GetTitleDataRequest": return (TypeAdapter<T>) new GetTitleDataRequestAdapter(gson);
+                case "GetTitleDataResult": return (TypeAdapter<T>) new GetTitleDataResultAdapter(gson);
+                case "GetUserBansRequest": return (TypeAdapter<T>) new GetUserBansRequestAdapter(gson);
+                case "GetUserBansResult": return (TypeAdapter<T>) new GetUserBansResultAdapter(gson);
+                case "GetUserDataRequest": return (TypeAdapter<T>) new GetUserDataRequestAdapter(gson);
+                case "GetUserDataResult": return (TypeAdapter<T>) new GetUserDataResultAdapter(gson);
+                case "GetUserInventoryRequest": return (TypeAdapter<T>) new GetUserInventoryRequestAdapter(gson);
+                case "GetUserInventoryResult": return (TypeAdapter<T>) new GetUserInventoryResultAdapter(gson);
+                case "GrantedItemInstance": return (TypeAdapter<T>) new GrantedItemInstanceAdapter(gson);
+                case "GrantItemSegmentAction": return (TypeAdapter<T>) new GrantItemSegmentActionAdapter(gson);
+                case "GrantItemsToUsersRequest": return (TypeAdapter<T>) new GrantItemsToUsersRequestAdapter(gson);
+                case "GrantItemsToUsersResult": return (TypeAdapter<T>) new GrantItemsToUsersResultAdapter(gson);
+                case "GrantVirtualCurrencySegmentAction": return (TypeAdapter<T>) new GrantVirtualCurrencySegmentActionAdapter(gson);
+                case "IncrementLimitedEditionItemAvailabilityRequest": return (TypeAdapter<T>) new IncrementLimitedEditionItemAvailabilityRequestAdapter(gson);
+                case "IncrementLimitedEditionItemAvailabilityResult": return (TypeAdapter<T>) new IncrementLimitedEditionItemAvailabilityResultAdapter(gson);
+                case "IncrementPlayerStatisticSegmentAction": return (TypeAdapter<T>) new IncrementPlayerStatisticSegmentActionAdapter(gson);
+                case "IncrementPlayerStatisticVersionRequest": return (TypeAdapter<T>) new IncrementPlayerStatisticVersionRequestAdapter(gson);
+                case "IncrementPlayerStatisticVersionResult": return (TypeAdapter<T>) new IncrementPlayerStatisticVersionResultAdapter(gson);
+                case "InsightsScalingTaskParameter": return (TypeAdapter<T>) new InsightsScalingTaskParameterAdapter(gson);
+                case "ItemGrant": return (TypeAdapter<T>) new ItemGrantAdapter(gson);
+                case "ItemInstance": return (TypeAdapter<T>) new ItemInstanceAdapter(gson);
+                case "LastLoginDateSegmentFilter": return (TypeAdapter<T>) new LastLoginDateSegmentFilterAdapter(gson);
+                case "LastLoginTimespanSegmentFilter": return (TypeAdapter<T>) new LastLoginTimespanSegmentFilterAdapter(gson);
+                case "LinkedPlatformAccountModel": return (TypeAdapter<T>) new LinkedPlatformAccountModelAdapter(gson);
+                case "LinkedUserAccountHasEmailSegmentFilter": return (TypeAdapter<T>) new LinkedUserAccountHasEmailSegmentFilterAdapter(gson);
+                case "LinkedUserAccountSegmentFilter": return (TypeAdapter<T>) new LinkedUserAccountSegmentFilterAdapter(gson);
+                case "ListBuildsRequest": return (TypeAdapter<T>) new ListBuildsRequestAdapter(gson);
+                case "ListBuildsResult": return (TypeAdapter<T>) new ListBuildsResultAdapter(gson);
+                case "ListOpenIdConnectionRequest": return (TypeAdapter<T>) new ListOpenIdConnectionRequestAdapter(gson);
+                case "ListOpenIdConnectionResponse": return (TypeAdapter<T>) new ListOpenIdConnectionResponseAdapter(gson);
+                case "ListVirtualCurrencyTypesRequest": return (TypeAdapter<T>) new ListVirtualCurrencyTypesRequestAdapter(gson);
+                case "ListVirtualCurrencyTypesResult": return (TypeAdapter<T>) new ListVirtualCurrencyTypesResultAdapter(gson);
+                case "LocationModel": return (TypeAdapter<T>) new LocationModelAdapter(gson);
+                case "LocationSegmentFilter": return (TypeAdapter<T>) new LocationSegmentFilterAdapter(gson);
+                case "LogStatement": return (TypeAdapter<T>) new LogStatementAdapter(gson);
+                case "LookupUserAccountInfoRequest": return (TypeAdapter<T>) new LookupUserAccountInfoRequestAdapter(gson);
+                case "LookupUserAccountInfoResult": return (TypeAdapter<T>) new LookupUserAccountInfoResultAdapter(gson);
+                case "MembershipModel": return (TypeAdapter<T>) new MembershipModelAdapter(gson);
+                case "ModifyMatchmakerGameModesRequest": return (TypeAdapter<T>) new ModifyMatchmakerGameModesRequestAdapter(gson);
+                case "ModifyMatchmakerGameModesResult": return (TypeAdapter<T>) new ModifyMatchmakerGameModesResultAdapter(gson);
+                case "ModifyServerBuildRequest": return (TypeAdapter<T>) new ModifyServerBuildRequestAdapter(gson);
+                case "ModifyServerBuildResult": return (TypeAdapter<T>) new ModifyServerBuildResultAdapter(gson);
+                case "ModifyUserVirtualCurrencyResult": return (TypeAdapter<T>) new ModifyUserVirtualCurrencyResultAdapter(gson);
+                case "NameIdentifier": return (TypeAdapter<T>) new NameIdentifierAdapter(gson);
+                case "OpenIdConnection": return (TypeAdapter<T>) new OpenIdConnectionAdapter(gson);
+                case "OpenIdIssuerInformation": return (TypeAdapter<T>) new OpenIdIssuerInformationAdapter(gson);
+                case "PermissionStatement": return (TypeAdapter<T>) new PermissionStatementAdapter(gson);
+                case "PlayerLinkedAccount": return (TypeAdapter<T>) new PlayerLinkedAccountAdapter(gson);
+                case "PlayerLocation": return (TypeAdapter<T>) new PlayerLocationAdapter(gson);
+                case "PlayerProfile": return (TypeAdapter<T>) new PlayerProfileAdapter(gson);
+                case "PlayerProfileModel": return (TypeAdapter<T>) new PlayerProfileModelAdapter(gson);
+                case "PlayerProfileViewConstraints": return (TypeAdapter<T>) new PlayerProfileViewConstraintsAdapter(gson);
+                case "PlayerStatistic": return (TypeAdapter<T>) new PlayerStatisticAdapter(gson);
+                case "PlayerStatisticDefinition": return (TypeAdapter<T>) new PlayerStatisticDefinitionAdapter(gson);
+                case "PlayerStatisticVersion": return (TypeAdapter<T>) new PlayerStatisticVersionAdapter(gson);
+                case "PushNotificationRegistration": return (TypeAdapter<T>) new PushNotificationRegistrationAdapter(gson);
+                case "PushNotificationRegistrationModel": return (TypeAdapter<T>) new PushNotificationRegistrationModelAdapter(gson);
+                case "PushNotificationSegmentAction": return (TypeAdapter<T>) new PushNotificationSegmentActionAdapter(gson);
+                case "PushNotificationSegmentFilter": return (TypeAdapter<T>) new PushNotificationSegmentFilterAdapter(gson);
+                case "RandomResultTable": return (TypeAdapter<T>) new RandomResultTableAdapter(gson);
+                case "RandomResultTableListing": return (TypeAdapter<T>) new RandomResultTableListingAdapter(gson);
+                case "RefundPurchaseRequest": return (TypeAdapter<T>) new RefundPurchaseRequestAdapter(gson);
+                case "RefundPurchaseResponse": return (TypeAdapter<T>) new RefundPurchaseResponseAdapter(gson);
+                case "RemovePlayerTagRequest": return (TypeAdapter<T>) new RemovePlayerTagRequestAdapter(gson);
+                case "RemovePlayerTagResult": return (TypeAdapter<T>) new RemovePlayerTagResultAdapter(gson);
+                case "RemoveServerBuildRequest": return (TypeAdapter<T>) new RemoveServerBuildRequestAdapter(gson);
+                case "RemoveServerBuildResult": return (TypeAdapter<T>) new RemoveServerBuildResultAdapter(gson);
+                case "RemoveVirtualCurrencyTypesRequest": return (TypeAdapter<T>) new RemoveVirtualCurrencyTypesRequestAdapter(gson);
+                case "ResetCharacterStatisticsRequest": return (TypeAdapter<T>) new ResetCharacterStatisticsRequestAdapter(gson);
+                case "ResetCharacterStatisticsResult": return (TypeAdapter<T>) new ResetCharacterStatisticsResultAdapter(gson);
+                case "ResetPasswordRequest": return (TypeAdapter<T>) new ResetPasswordRequestAdapter(gson);
+                case "ResetPasswordResult": return (TypeAdapter<T>) new ResetPasswordResultAdapter(gson);
+                case "ResetUserStatisticsRequest": return (TypeAdapter<T>) new ResetUserStatisticsRequestAdapter(gson);
+                case "ResetUserStatisticsResult": return (TypeAdapter<T>) new ResetUserStatisticsResultAdapter(gson);
+                case "ResolvePurchaseDisputeRequest": return (TypeAdapter<T>) new ResolvePurchaseDisputeRequestAdapter(gson);
+                case "ResolvePurchaseDisputeResponse": return (TypeAdapter<T>) new ResolvePurchaseDisputeResponseAdapter(gson);
+                case "ResultTableNode": return (TypeAdapter<T>) new ResultTableNodeAdapter(gson);
+                case "RevokeAllBansForUserRequest": return (TypeAdapter<T>) new RevokeAllBansForUserRequestAdapter(gson);
+                case "RevokeAllBansForUserResult": return (TypeAdapter<T>) new RevokeAllBansForUserResultAdapter(gson);
+                case "RevokeBansRequest": return (TypeAdapter<T>) new RevokeBansRequestAdapter(gson);
+                case "RevokeBansResult": return (TypeAdapter<T>) new RevokeBansResultAdapter(gson);
+                case "RevokeInventoryItem": return (TypeAdapter<T>) new RevokeInventoryItemAdapter(gson);
+                case "RevokeInventoryItemRequest": return (TypeAdapter<T>) new RevokeInventoryItemRequestAdapter(gson);
+                case "RevokeInventoryItemsRequest": return (TypeAdapter<T>) new RevokeInventoryItemsRequestAdapter(gson);
+                case "RevokeInventoryItemsResult": return (TypeAdapter<T>) new RevokeInventoryItemsResultAdapter(gson);
+                case "RevokeInventoryResult": return (TypeAdapter<T>) new RevokeInventoryResultAdapter(gson);
+                case "RevokeItemError": return (TypeAdapter<T>) new RevokeItemErrorAdapter(gson);
+                case "RunTaskRequest": return (TypeAdapter<T>) new RunTaskRequestAdapter(gson);
+                case "RunTaskResult": return (TypeAdapter<T>) new RunTaskResultAdapter(gson);
+                case "ScheduledTask": return (TypeAdapter<T>) new ScheduledTaskAdapter(gson);
+                case "ScriptExecutionError": return (TypeAdapter<T>) new ScriptExecutionErrorAdapter(gson);
+                case "SegmentAndDefinition": return (TypeAdapter<T>) new SegmentAndDefinitionAdapter(gson);
+                case "SegmentModel": return (TypeAdapter<T>) new SegmentModelAdapter(gson);
+                case "SegmentOrDefinition": return (TypeAdapter<T>) new SegmentOrDefinitionAdapter(gson);
+                case "SegmentTrigger": return (TypeAdapter<T>) new SegmentTriggerAdapter(gson);
+                case "SendAccountRecoveryEmailRequest": return (TypeAdapter<T>) new SendAccountRecoveryEmailRequestAdapter(gson);
+                case "SendAccountRecoveryEmailResult": return (TypeAdapter<T>) new SendAccountRecoveryEmailResultAdapter(gson);
+                case "SetMembershipOverrideRequest": return (TypeAdapter<T>) new SetMembershipOverrideRequestAdapter(gson);
+                case "SetMembershipOverrideResult": return (TypeAdapter<T>) new SetMembershipOverrideResultAdapter(gson);
+                case "SetPlayerSecretRequest": return (TypeAdapter<T>) new SetPlayerSecretRequestAdapter(gson);
+                case "SetPlayerSecretResult": return (TypeAdapter<T>) new SetPlayerSecretResultAdapter(gson);
+                case "SetPublishedRevisionRequest": return (TypeAdapter<T>) new SetPublishedRevisionRequestAdapter(gson);
+                case "SetPublishedRevisionResult": return (TypeAdapter<T>) new SetPublishedRevisionResultAdapter(gson);
+                case "SetPublisherDataRequest": return (TypeAdapter<T>) new SetPublisherDataRequestAdapter(gson);
+                case "SetPublisherDataResult": return (TypeAdapter<T>) new SetPublisherDataResultAdapter(gson);
+                case "SetTitleDataAndOverridesRequest": return (TypeAdapter<T>) new SetTitleDataAndOverridesRequestAdapter(gson);
+                case "SetTitleDataAndOverridesResult": return (TypeAdapter<T>) new SetTitleDataAndOverridesResultAdapter(gson);
+                case "SetTitleDataRequest": return (TypeAdapter<T>) new SetTitleDataRequestAdapter(gson);
+                case "SetTitleDataResult": return (TypeAdapter<T>) new SetTitleDataResultAdapter(gson);
+                case "SetupPushNotificationRequest": return (TypeAdapter<T>) new SetupPushNotificationRequestAdapter(gson);
+                case "SetupPushNotificationResult": return (TypeAdapter<T>) new SetupPushNotificationResultAdapter(gson);
+                case "SharedSecret": return (TypeAdapter<T>) new SharedSecretAdapter(gson);
+                case "StatisticModel": return (TypeAdapter<T>) new StatisticModelAdapter(gson);
+                case "StatisticSegmentFilter": return (TypeAdapter<T>) new StatisticSegmentFilterAdapter(gson);
+                case "StoreItem": return (TypeAdapter<T>) new StoreItemAdapter(gson);
+                case "StoreMarketingModel": return (TypeAdapter<T>) new StoreMarketingModelAdapter(gson);
+                case "SubscriptionModel": return (TypeAdapter<T>) new SubscriptionModelAdapter(gson);
+                case "SubtractUserVirtualCurrencyRequest": return (TypeAdapter<T>) new SubtractUserVirtualCurrencyRequestAdapter(gson);
+                case "TagModel": return (TypeAdapter<T>) new TagModelAdapter(gson);
+                case "TagSegmentFilter": return (TypeAdapter<T>) new TagSegmentFilterAdapter(gson);
+                case "TaskInstanceBasicSummary": return (TypeAdapter<T>) new TaskInstanceBasicSummaryAdapter(gson);
+                case "TitleDataKeyValue": return (TypeAdapter<T>) new TitleDataKeyValueAdapter(gson);
+                case "TotalValueToDateInUSDSegmentFilter": return (TypeAdapter<T>) new TotalValueToDateInUSDSegmentFilterAdapter(gson);
+                case "UpdateBanRequest": return (TypeAdapter<T>) new UpdateBanRequestAdapter(gson);
+                case "UpdateBansRequest": return (TypeAdapter<T>) new UpdateBansRequestAdapter(gson);
+                case "UpdateBansResult": return (TypeAdapter<T>) new UpdateBansResultAdapter(gson);
+                case "UpdateCatalogItemsRequest": return (TypeAdapter<T>) new UpdateCatalogItemsRequestAdapter(gson);
+                case "UpdateCatalogItemsResult": return (TypeAdapter<T>) new UpdateCatalogItemsResultAdapter(gson);
+                case "UpdateCloudScriptRequest": return (TypeAdapter<T>) new UpdateCloudScriptRequestAdapter(gson);
+                case "UpdateCloudScriptResult": return (TypeAdapter<T>) new UpdateCloudScriptResultAdapter(gson);
+                case "UpdateOpenIdConnectionRequest": return (TypeAdapter<T>) new UpdateOpenIdConnectionRequestAdapter(gson);
+                case "UpdatePlayerSharedSecretRequest": return (TypeAdapter<T>) new UpdatePlayerSharedSecretRequestAdapter(gson);
+                case "UpdatePlayerSharedSecretResult": return (TypeAdapter<T>) new UpdatePlayerSharedSecretResultAdapter(gson);
+                case "UpdatePlayerStatisticDefinitionRequest": return (TypeAdapter<T>) new UpdatePlayerStatisticDefinitionRequestAdapter(gson);
+                case "UpdatePlayerStatisticDefinitionResult": return (TypeAdapter<T>) new UpdatePlayerStatisticDefinitionResultAdapter(gson);
+                case "UpdatePolicyRequest": return (TypeAdapter<T>) new UpdatePolicyRequestAdapter(gson);
+                case "UpdatePolicyResponse": return (TypeAdapter<T>) new UpdatePolicyResponseAdapter(gson);
+                case "UpdateRandomResultTablesRequest": return (TypeAdapter<T>) new UpdateRandomResultTablesRequestAdapter(gson);
+                case "UpdateRandomResultTablesResult": return (TypeAdapter<T>) new UpdateRandomResultTablesResultAdapter(gson);
+                case "UpdateSegmentRequest": return (TypeAdapter<T>) new UpdateSegmentRequestAdapter(gson);
+                case "UpdateSegmentResponse": return (TypeAdapter<T>) new UpdateSegmentResponseAdapter(gson);
+                case "UpdateStoreItemsRequest": return (TypeAdapter<T>) new UpdateStoreItemsRequestAdapter(gson);
+                case "UpdateStoreItemsResult": return (TypeAdapter<T>) new UpdateStoreItemsResultAdapter(gson);
+                case "UpdateTaskRequest": return (TypeAdapter<T>) new UpdateTaskRequestAdapter(gson);
+                case "UpdateUserDataRequest": return (TypeAdapter<T>) new UpdateUserDataRequestAdapter(gson);
+                case "UpdateUserDataResult": return (TypeAdapter<T>) new UpdateUserDataResultAdapter(gson);
+                case "UpdateUserInternalDataRequest": return (TypeAdapter<T>) new UpdateUserInternalDataRequestAdapter(gson);
+                case "UpdateUserTitleDisplayNameRequest": return (TypeAdapter<T>) new UpdateUserTitleDisplayNameRequestAdapter(gson);
+                case "UpdateUserTitleDisplayNameResult": return (TypeAdapter<T>) new UpdateUserTitleDisplayNameResultAdapter(gson);
+                case "UserAccountInfo": return (TypeAdapter<T>) new UserAccountInfoAdapter(gson);
+                case "UserAndroidDeviceInfo": return (TypeAdapter<T>) new UserAndroidDeviceInfoAdapter(gson);
+                case "UserAppleIdInfo": return (TypeAdapter<T>) new UserAppleIdInfoAdapter(gson);
+                case "UserCustomIdInfo": return (TypeAdapter<T>) new UserCustomIdInfoAdapter(gson);
+                case "UserDataRecord": return (TypeAdapter<T>) new UserDataRecordAdapter(gson);
+                case "UserFacebookInfo": return (TypeAdapter<T>) new UserFacebookInfoAdapter(gson);
+                case "UserFacebookInstantGamesIdInfo": return (TypeAdapter<T>) new UserFacebookInstantGamesIdInfoAdapter(gson);
+                case "UserGameCenterInfo": return (TypeAdapter<T>) new UserGameCenterInfoAdapter(gson);
+                case "UserGoogleInfo": return (TypeAdapter<T>) new UserGoogleInfoAdapter(gson);
+                case "UserIosDeviceInfo": return (TypeAdapter<T>) new UserIosDeviceInfoAdapter(gson);
+                case "UserKongregateInfo": return (TypeAdapter<T>) new UserKongregateInfoAdapter(gson);
+                case "UserNintendoSwitchAccountIdInfo": return (TypeAdapter<T>) new UserNintendoSwitchAccountIdInfoAdapter(gson);
+                case "UserNintendoSwitchDeviceIdInfo": return (TypeAdapter<T>) new UserNintendoSwitchDeviceIdInfoAdapter(gson);
+                case "UserOpenIdInfo": return (TypeAdapter<T>) new UserOpenIdInfoAdapter(gson);
+                case "UserOriginationSegmentFilter": return (TypeAdapter<T>) new UserOriginationSegmentFilterAdapter(gson);
+                case "UserPrivateAccountInfo": return (TypeAdapter<T>) new UserPrivateAccountInfoAdapter(gson);
+                case "UserPsnInfo": return (TypeAdapter<T>) new UserPsnInfoAdapter(gson);
+                case "UserSteamInfo": return (TypeAdapter<T>) new UserSteamInfoAdapter(gson);
+                case "UserTitleInfo": return (TypeAdapter<T>) new UserTitleInfoAdapter(gson);
+                case "UserTwitchInfo": return (TypeAdapter<T>) new UserTwitchInfoAdapter(gson);
+                case "UserXboxInfo": return (TypeAdapter<T>) new UserXboxInfoAdapter(gson);
+                case "ValueToDateModel": return (TypeAdapter<T>) new ValueToDateModelAdapter(gson);
+                case "ValueToDateSegmentFilter": return (TypeAdapter<T>) new ValueToDateSegmentFilterAdapter(gson);
+                case "VirtualCurrencyBalanceSegmentFilter": return (TypeAdapter<T>) new VirtualCurrencyBalanceSegmentFilterAdapter(gson);
+                case "VirtualCurrencyData": return (TypeAdapter<T>) new VirtualCurrencyDataAdapter(gson);
+                case "VirtualCurrencyRechargeTime": return (TypeAdapter<T>) new VirtualCurrencyRechargeTimeAdapter(gson);
+                default: return null;
+            }
+        }
+    };
+
+    private static class AbortTaskInstanceRequestAdapter extends TypeAdapter<AbortTaskInstanceRequest> {
+        private final TypeAdapter<String> stringAdapter;
+
+        private AbortTaskInstanceRequestAdapter(Gson gson) {
+            stringAdapter = gson.getAdapter(String.class);
+        }
+
+        @Override
+        public void write(JsonWriter out, AbortTaskInstanceRequest value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            PlayFabJson.writeMap(out.name("CustomTags"), value.CustomTags, stringAdapter);
+            out.name("TaskInstanceId").value(value.TaskInstanceId);
+            out.endObject();
+        }
+
+        @Override
+        public AbortTaskInstanceRequest read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            AbortTaskInstanceRequest value = new AbortTaskInstanceRequest();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "CustomTags": value.CustomTags = PlayFabJson.readMap(in, stringAdapter); break;
+                        case "TaskInstanceId": value.TaskInstanceId = PlayFabJson.readString(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class ActionsOnPlayersInSegmentTaskParameterAdapter extends TypeAdapter<ActionsOnPlayersInSegmentTaskParameter> {
+        private ActionsOnPlayersInSegmentTaskParameterAdapter(Gson gson) {
+        }
+
+        @Override
+        public void write(JsonWriter out, ActionsOnPlayersInSegmentTaskParameter value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.name("ActionId").value(value.ActionId);
+            out.name("SegmentId").value(value.SegmentId);
+            out.endObject();
+        }
+
+        @Override
+        public ActionsOnPlayersInSegmentTaskParameter read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            ActionsOnPlayersInSegmentTaskParameter value = new ActionsOnPlayersInSegmentTaskParameter();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "ActionId": value.ActionId = PlayFabJson.readString(in); break;
+                        case "SegmentId": value.SegmentId = PlayFabJson.readString(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class ActionsOnPlayersInSegmentTaskSummaryAdapter extends TypeAdapter<ActionsOnPlayersInSegmentTaskSummary> {
+        private final TypeAdapter<Date> dateAdapter;
+        private final TypeAdapter<Double> doubleAdapter;
+        private final TypeAdapter<TaskInstanceStatus> taskInstanceStatusAdapter;
+        private final TypeAdapter<NameIdentifier> nameIdentifierAdapter;
+
+        private ActionsOnPlayersInSegmentTaskSummaryAdapter(Gson gson) {
+            dateAdapter = gson.getAdapter(Date.class);
+            doubleAdapter = gson.getAdapter(Double.class);
+            taskInstanceStatusAdapter = gson.getAdapter(TaskInstanceStatus.class);
+            nameIdentifierAdapter = gson.getAdapter(NameIdentifier.class);
+        }
+
+        @Override
+        public void write(JsonWriter out, ActionsOnPlayersInSegmentTaskSummary value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            dateAdapter.write(out.name("CompletedAt"), value.CompletedAt);
+            out.name("ErrorMessage").value(value.ErrorMessage);
+            out.name("ErrorWasFatal").value(value.ErrorWasFatal);
+            doubleAdapter.write(out.name("EstimatedSecondsRemaining"), value.EstimatedSecondsRemaining);
+            doubleAdapter.write(out.name("PercentComplete"), value.PercentComplete);
+            out.name("ScheduledByUserId").value(value.ScheduledByUserId);
+            dateAdapter.write(out.name("StartedAt"), value.StartedAt);
+            taskInstanceStatusAdapter.write(out.name("Status"), value.Status);
+            nameIdentifierAdapter.write(out.name("TaskIdentifier"), value.TaskIdentifier);
+            out.name("TaskInstanceId").value(value.TaskInstanceId);
+            out.name("TotalPlayersInSegment").value(value.TotalPlayersInSegment);
+            out.name("TotalPlayersProcessed").value(value.TotalPlayersProcessed);
+            out.endObject();
+        }
+
+        @Override
+        public ActionsOnPlayersInSegmentTaskSummary read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            ActionsOnPlayersInSegmentTaskSummary value = new ActionsOnPlayersInSegmentTaskSummary();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "CompletedAt": value.CompletedAt = dateAdapter.read(in); break;
+                        case "ErrorMessage": value.ErrorMessage = PlayFabJson.readString(in); break;
+                        case "ErrorWasFatal": value.ErrorWasFatal = PlayFabJson.readBoolean(in); break;
+                        case "EstimatedSecondsRemaining": value.EstimatedSecondsRemaining = doubleAdapter.read(in); break;
+                        case "PercentComplete": value.PercentComplete = doubleAdapter.read(in); break;
+                        case "ScheduledByUserId": value.ScheduledByUserId = PlayFabJson.readString(in); break;
+                        case "StartedAt": value.StartedAt = dateAdapter.read(in); break;
+                        case "Status": value.Status = taskInstanceStatusAdapter.read(in); break;
+                        case "TaskIdentifier": value.TaskIdentifier = nameIdentifierAdapter.read(in); break;
+                        case "TaskInstanceId": value.TaskInstanceId = PlayFabJson.readString(in); break;
+                        case "TotalPlayersInSegment": value.TotalPlayersInSegment = PlayFabJson.readInteger(in); break;
+                        case "TotalPlayersProcessed": value.TotalPlayersProcessed = PlayFabJson.readInteger(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class AdCampaignAttributionAdapter extends TypeAdapter<AdCampaignAttribution> {
+        private final TypeAdapter<Date> dateAdapter;
+
+        private AdCampaignAttributionAdapter(Gson gson) {
+            dateAdapter = gson.getAdapter(Date.class);
+        }
+
+        @Override
+        public void write(JsonWriter out, AdCampaignAttribution value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            dateAdapter.write(out.name("AttributedAt"), value.AttributedAt);
+            out.name("CampaignId").value(value.CampaignId);
+            out.name("Platform").value(value.Platform);
+            out.endObject();
+        }
+
+        @Override
+        public AdCampaignAttribution read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            AdCampaignAttribution value = new AdCampaignAttribution();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "AttributedAt": value.AttributedAt = dateAdapter.read(in); break;
+                        case "CampaignId": value.CampaignId = PlayFabJson.readString(in); break;
+                        case "Platform": value.Platform = PlayFabJson.readString(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class AdCampaignAttributionModelAdapter extends TypeAdapter<AdCampaignAttributionModel> {
+        private final TypeAdapter<Date> dateAdapter;
+
+        private AdCampaignAttributionModelAdapter(Gson gson) {
+            dateAdapter = gson.getAdapter(Date.class);
+        }
+
+        @Override
+        public void write(JsonWriter out, AdCampaignAttributionModel value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            dateAdapter.write(out.name("AttributedAt"), value.AttributedAt);
+            out.name("CampaignId").value(value.CampaignId);
+            out.name("Platform").value(value.Platform);
+            out.endObject();
+        }
+
+        @Override
+        public AdCampaignAttributionModel read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            AdCampaignAttributionModel value = new AdCampaignAttributionModel();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "AttributedAt": value.AttributedAt = dateAdapter.read(in); break;
+                        case "CampaignId": value.CampaignId = PlayFabJson.readString(in); break;
+                        case "Platform": value.Platform = PlayFabJson.readString(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class AdCampaignSegmentFilterAdapter extends TypeAdapter<AdCampaignSegmentFilter> {
+        private final TypeAdapter<SegmentFilterComparison> segmentFilterComparisonAdapter;
+
+        private AdCampaignSegmentFilterAdapter(Gson gson) {
+            segmentFilterComparisonAdapter = gson.getAdapter(SegmentFilterComparison.class);
+        }
+
+        @Override
+        public void write(JsonWriter out, AdCampaignSegmentFilter value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.name("CampaignId").value(value.CampaignId);
+            out.name("CampaignSource").value(value.CampaignSource);
+            segmentFilterComparisonAdapter.write(out.name("Comparison"), value.Comparison);
+            out.endObject();
+        }
+
+        @Override
+        public AdCampaignSegmentFilter read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            AdCampaignSegmentFilter value = new AdCampaignSegmentFilter();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "CampaignId": value.CampaignId = PlayFabJson.readString(in); break;
+                        case "CampaignSource": value.CampaignSource = PlayFabJson.readString(in); break;
+                        case "Comparison": value.Comparison = segmentFilterComparisonAdapter.read(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class AddLocalizedNewsRequestAdapter extends TypeAdapter<AddLocalizedNewsRequest> {
+        private final TypeAdapter<String> stringAdapter;
+
+        private AddLocalizedNewsRequestAdapter(Gson gson) {
+            stringAdapter = gson.getAdapter(String.class);
+        }
+
+        @Override
+        public void write(JsonWriter out, AddLocalizedNewsRequest value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.name("Body").value(value.Body);
+            PlayFabJson.writeMap(out.name("CustomTags"), value.CustomTags, stringAdapter);
+            out.name("Language").value(value.Language);
+            out.name("NewsId").value(value.NewsId);
+            out.name("Title").value(value.Title);
+            out.endObject();
+        }
+
+        @Override
+        public AddLocalizedNewsRequest read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            AddLocalizedNewsRequest value = new AddLocalizedNewsRequest();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "Body": value.Body = PlayFabJson.readString(in); break;
+                        case "CustomTags": value.CustomTags = PlayFabJson.readMap(in, stringAdapter); break;
+                        case "Language": value.Language = PlayFabJson.readString(in); break;
+                        case "NewsId": value.NewsId = PlayFabJson.readString(in); break;
+                        case "Title": value.Title = PlayFabJson.readString(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class AddLocalizedNewsResultAdapter extends TypeAdapter<AddLocalizedNewsResult> {
+        private AddLocalizedNewsResultAdapter(Gson gson) {
+        }
+
+        @Override
+        public void write(JsonWriter out, AddLocalizedNewsResult value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.endObject();
+        }
+
+        @Override
+        public AddLocalizedNewsResult read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            AddLocalizedNewsResult value = new AddLocalizedNewsResult();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class AddNewsRequestAdapter extends TypeAdapter<AddNewsRequest> {
+        private final TypeAdapter<String> stringAdapter;
+        private final TypeAdapter<Date> dateAdapter;
+
+        private AddNewsRequestAdapter(Gson gson) {
+            stringAdapter = gson.getAdapter(String.class);
+            dateAdapter = gson.getAdapter(Date.class);
+        }
+
+        @Override
+        public void write(JsonWriter out, AddNewsRequest value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.name("Body").value(value.Body);
+            PlayFabJson.writeMap(out.name("CustomTags"), value.CustomTags, stringAdapter);
+            dateAdapter.write(out.name("Timestamp"), value.Timestamp);
+            out.name("Title").value(value.Title);
+            out.endObject();
+        }
+
+        @Override
+        public AddNewsRequest read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            AddNewsRequest value = new AddNewsRequest();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "Body": value.Body = PlayFabJson.readString(in); break;
+                        case "CustomTags": value.CustomTags = PlayFabJson.readMap(in, stringAdapter); break;
+                        case "Timestamp": value.Timestamp = dateAdapter.read(in); break;
+                        case "Title": value.Title = PlayFabJson.readString(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class AddNewsResultAdapter extends TypeAdapter<AddNewsResult> {
+        private AddNewsResultAdapter(Gson gson) {
+        }
+
+        @Override
+        public void write(JsonWriter out, AddNewsResult value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.name("NewsId").value(value.NewsId);
+            out.endObject();
+        }
+
+        @Override
+        public AddNewsResult read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            AddNewsResult value = new AddNewsResult();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "NewsId": value.NewsId = PlayFabJson.readString(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class AddPlayerTagRequestAdapter extends TypeAdapter<AddPlayerTagRequest> {
+        private final TypeAdapter<String> stringAdapter;
+
+        private AddPlayerTagRequestAdapter(Gson gson) {
+            stringAdapter = gson.getAdapter(String.class);
+        }
+
+        @Override
+        public void write(JsonWriter out, AddPlayerTagRequest value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            PlayFabJson.writeMap(out.name("CustomTags"), value.CustomTags, stringAdapter);
+            out.name("PlayFabId").value(value.PlayFabId);
+            out.name("TagName").value(value.TagName);
+            out.endObject();
+        }
+
+        @Override
+        public AddPlayerTagRequest read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            AddPlayerTagRequest value = new AddPlayerTagRequest();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "CustomTags": value.CustomTags = PlayFabJson.readMap(in, stringAdapter); break;
+                        case "PlayFabId": value.PlayFabId = PlayFabJson.readString(in); break;
+                        case "TagName": value.TagName = PlayFabJson.readString(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class AddPlayerTagResultAdapter extends TypeAdapter<AddPlayerTagResult> {
+        private AddPlayerTagResultAdapter(Gson gson) {
+        }
+
+        @Override
+        public void write(JsonWriter out, AddPlayerTagResult value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.endObject();
+        }
+
+        @Override
+        public AddPlayerTagResult read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            AddPlayerTagResult value = new AddPlayerTagResult();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class AddServerBuildRequestAdapter extends TypeAdapter<AddServerBuildRequest> {
+        private final TypeAdapter<Region> regionAdapter;
+        private final TypeAdapter<String> stringAdapter;
+
+        private AddServerBuildRequestAdapter(Gson gson) {
+            regionAdapter = gson.getAdapter(Region.class);
+            stringAdapter = gson.getAdapter(String.class);
+        }
+
+        @Override
+        public void write(JsonWriter out, AddServerBuildRequest value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            PlayFabJson.writeList(out.name("ActiveRegions"), value.ActiveRegions, regionAdapter);
+            out.name("BuildId").value(value.BuildId);
+            out.name("CommandLineTemplate").value(value.CommandLineTemplate);
+            out.name("Comment").value(value.Comment);
+            PlayFabJson.writeMap(out.name("CustomTags"), value.CustomTags, stringAdapter);
+            out.name("ExecutablePath").value(value.ExecutablePath);
+            out.name("MaxGamesPerHost").value(value.MaxGamesPerHost);
+            out.name("MinFreeGameSlots").value(value.MinFreeGameSlots);
+            out.endObject();
+        }
+
+        @Override
+        public AddServerBuildRequest read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            AddServerBuildRequest value = new AddServerBuildRequest();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "ActiveRegions": value.ActiveRegions = PlayFabJson.readList(in, regionAdapter); break;
+                        case "BuildId": value.BuildId = PlayFabJson.readString(in); break;
+                        case "CommandLineTemplate": value.CommandLineTemplate = PlayFabJson.readString(in); break;
+                        case "Comment": value.Comment = PlayFabJson.readString(in); break;
+                        case "CustomTags": value.CustomTags = PlayFabJson.readMap(in, stringAdapter); break;
+                        case "ExecutablePath": value.ExecutablePath = PlayFabJson.readString(in); break;
+                        case "MaxGamesPerHost": value.MaxGamesPerHost = PlayFabJson.readInteger(in); break;
+                        case "MinFreeGameSlots": value.MinFreeGameSlots = PlayFabJson.readInteger(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class AddServerBuildResultAdapter extends TypeAdapter<AddServerBuildResult> {
+        private final TypeAdapter<Region> regionAdapter;
+        private final TypeAdapter<GameBuildStatus> gameBuildStatusAdapter;
+        private final TypeAdapter<Date> dateAdapter;
+
+        private AddServerBuildResultAdapter(Gson gson) {
+            regionAdapter = gson.getAdapter(Region.class);
+            gameBuildStatusAdapter = gson.getAdapter(GameBuildStatus.class);
+            dateAdapter = gson.getAdapter(Date.class);
+        }
+
+        @Override
+        public void write(JsonWriter out, AddServerBuildResult value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            PlayFabJson.writeList(out.name("ActiveRegions"), value.ActiveRegions, regionAdapter);
+            out.name("BuildId").value(value.BuildId);
+            out.name("CommandLineTemplate").value(value.CommandLineTemplate);
+            out.name("Comment").value(value.Comment);
+            out.name("ExecutablePath").value(value.ExecutablePath);
+            out.name("MaxGamesPerHost").value(value.MaxGamesPerHost);
+            out.name("MinFreeGameSlots").value(value.MinFreeGameSlots);
+            gameBuildStatusAdapter.write(out.name("Status"), value.Status);
+            dateAdapter.write(out.name("Timestamp"), value.Timestamp);
+            out.name("TitleId").value(value.TitleId);
+            out.endObject();
+        }
+
+        @Override
+        public AddServerBuildResult read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            AddServerBuildResult value = new AddServerBuildResult();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "ActiveRegions": value.ActiveRegions = PlayFabJson.readList(in, regionAdapter); break;
+                        case "BuildId": value.BuildId = PlayFabJson.readString(in); break;
+                        case "CommandLineTemplate": value.CommandLineTemplate = PlayFabJson.readString(in); break;
+                        case "Comment": value.Comment = PlayFabJson.readString(in); break;
+                        case "ExecutablePath": value.ExecutablePath = PlayFabJson.readString(in); break;
+                        case "MaxGamesPerHost": value.MaxGamesPerHost = PlayFabJson.readInteger(in); break;
+                        case "MinFreeGameSlots": value.MinFreeGameSlots = PlayFabJson.readInteger(in); break;
+                        case "Status": value.Status = gameBuildStatusAdapter.read(in); break;
+                        case "Timestamp": value.Timestamp = dateAdapter.read(in); break;
+                        case "TitleId": value.TitleId = PlayFabJson.readString(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class AddUserVirtualCurrencyRequestAdapter extends TypeAdapter<AddUserVirtualCurrencyRequest> {
+        private final TypeAdapter<String> stringAdapter;
+
+        private AddUserVirtualCurrencyRequestAdapter(Gson gson) {
+            stringAdapter = gson.getAdapter(String.class);
+        }
+
+        @Override
+        public void write(JsonWriter out, AddUserVirtualCurrencyRequest value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.name("Amount").value(value.Amount);
+            PlayFabJson.writeMap(out.name("CustomTags"), value.CustomTags, stringAdapter);
+            out.name("PlayFabId").value(value.PlayFabId);
+            out.name("VirtualCurrency").value(value.VirtualCurrency);
+            out.endObject();
+        }
+
+        @Override
+        public AddUserVirtualCurrencyRequest read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            AddUserVirtualCurrencyRequest value = new AddUserVirtualCurrencyRequest();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "Amount": value.Amount = PlayFabJson.readInteger(in); break;
+                        case "CustomTags": value.CustomTags = PlayFabJson.readMap(in, stringAdapter); break;
+                        case "PlayFabId": value.PlayFabId = PlayFabJson.readString(in); break;
+                        case "VirtualCurrency": value.VirtualCurrency = PlayFabJson.readString(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class AddVirtualCurrencyTypesRequestAdapter extends TypeAdapter<AddVirtualCurrencyTypesRequest> {
+        private final TypeAdapter<VirtualCurrencyData> virtualCurrencyDataAdapter;
+
+        private AddVirtualCurrencyTypesRequestAdapter(Gson gson) {
+            virtualCurrencyDataAdapter = gson.getAdapter(VirtualCurrencyData.class);
+        }
+
+        @Override
+        public void write(JsonWriter out, AddVirtualCurrencyTypesRequest value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            PlayFabJson.writeList(out.name("VirtualCurrencies"), value.VirtualCurrencies, virtualCurrencyDataAdapter);
+            out.endObject();
+        }
+
+        @Override
+        public AddVirtualCurrencyTypesRequest read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            AddVirtualCurrencyTypesRequest value = new AddVirtualCurrencyTypesRequest();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "VirtualCurrencies": value.VirtualCurrencies = PlayFabJson.readList(in, virtualCurrencyDataAdapter); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class AllPlayersSegmentFilterAdapter extends TypeAdapter<AllPlayersSegmentFilter> {
+        private AllPlayersSegmentFilterAdapter(Gson gson) {
+        }
+
+        @Override
+        public void write(JsonWriter out, AllPlayersSegmentFilter value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.endObject();
+        }
+
+        @Override
+        public AllPlayersSegmentFilter read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            AllPlayersSegmentFilter value = new AllPlayersSegmentFilter();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class ApiConditionAdapter extends TypeAdapter<ApiCondition> {
+        private final TypeAdapter<Conditionals> conditionalsAdapter;
+
+        private ApiConditionAdapter(Gson gson) {
+            conditionalsAdapter = gson.getAdapter(Conditionals.class);
+        }
+
+        @Override
+        public void write(JsonWriter out, ApiCondition value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            conditionalsAdapter.write(out.name("HasSignatureOrEncryption"), value.HasSignatureOrEncryption);
+            out.endObject();
+        }
+
+        @Override
+        public ApiCondition read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            ApiCondition value = new ApiCondition();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "HasSignatureOrEncryption": value.HasSignatureOrEncryption = conditionalsAdapter.read(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class BanInfoAdapter extends TypeAdapter<BanInfo> {
+        private final TypeAdapter<Date> dateAdapter;
+
+        private BanInfoAdapter(Gson gson) {
+            dateAdapter = gson.getAdapter(Date.class);
+        }
+
+        @Override
+        public void write(JsonWriter out, BanInfo value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.name("Active").value(value.Active);
+            out.name("BanId").value(value.BanId);
+            dateAdapter.write(out.name("Created"), value.Created);
+            dateAdapter.write(out.name("Expires"), value.Expires);
+            out.name("IPAddress").value(value.IPAddress);
+            out.name("MACAddress").value(value.MACAddress);
+            out.name("PlayFabId").value(value.PlayFabId);
+            out.name("Reason").value(value.Reason);
+            out.endObject();
+        }
+
+        @Override
+        public BanInfo read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            BanInfo value = new BanInfo();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "Active": value.Active = PlayFabJson.readBoolean(in); break;
+                        case "BanId": value.BanId = PlayFabJson.readString(in); break;
+                        case "Created": value.Created = dateAdapter.read(in); break;
+                        case "Expires": value.Expires = dateAdapter.read(in); break;
+                        case "IPAddress": value.IPAddress = PlayFabJson.readString(in); break;
+                        case "MACAddress": value.MACAddress = PlayFabJson.readString(in); break;
+                        case "PlayFabId": value.PlayFabId = PlayFabJson.readString(in); break;
+                        case "Reason": value.Reason = PlayFabJson.readString(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class BanPlayerSegmentActionAdapter extends TypeAdapter<BanPlayerSegmentAction> {
+        private BanPlayerSegmentActionAdapter(Gson gson) {
+        }
+
+        @Override
+        public void write(JsonWriter out, BanPlayerSegmentAction value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.name("BanHours").value(value.BanHours);
+            out.name("ReasonForBan").value(value.ReasonForBan);
+            out.endObject();
+        }
+
+        @Override
+        public BanPlayerSegmentAction read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            BanPlayerSegmentAction value = new BanPlayerSegmentAction();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "BanHours": value.BanHours = PlayFabJson.readLong(in); break;
+                        case "ReasonForBan": value.ReasonForBan = PlayFabJson.readString(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class BanRequestAdapter extends TypeAdapter<BanRequest> {
+        private BanRequestAdapter(Gson gson) {
+        }
+
+        @Override
+        public void write(JsonWriter out, BanRequest value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.name("DurationInHours").value(value.DurationInHours);
+            out.name("IPAddress").value(value.IPAddress);
+            out.name("MACAddress").value(value.MACAddress);
+            out.name("PlayFabId").value(value.PlayFabId);
+            out.name("Reason").value(value.Reason);
+            out.endObject();
+        }
+
+        @Override
+        public BanRequest read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            BanRequest value = new BanRequest();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "DurationInHours": value.DurationInHours = PlayFabJson.readLong(in); break;
+                        case "IPAddress": value.IPAddress = PlayFabJson.readString(in); break;
+                        case "MACAddress": value.MACAddress = PlayFabJson.readString(in); break;
+                        case "PlayFabId": value.PlayFabId = PlayFabJson.readString(in); break;
+                        case "Reason": value.Reason = PlayFabJson.readString(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class BanUsersRequestAdapter extends TypeAdapter<BanUsersRequest> {
+        private final TypeAdapter<BanRequest> banRequestAdapter;
+        private final TypeAdapter<String> stringAdapter;
+
+        private BanUsersRequestAdapter(Gson gson) {
+            banRequestAdapter = gson.getAdapter(BanRequest.class);
+            stringAdapter = gson.getAdapter(String.class);
+        }
+
+        @Override
+        public void write(JsonWriter out, BanUsersRequest value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            PlayFabJson.writeList(out.name("Bans"), value.Bans, banRequestAdapter);
+            PlayFabJson.writeMap(out.name("CustomTags"), value.CustomTags, stringAdapter);
+            out.endObject();
+        }
+
+        @Override
+        public BanUsersRequest read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            BanUsersRequest value = new BanUsersRequest();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "Bans": value.Bans = PlayFabJson.readList(in, banRequestAdapter); break;
+                        case "CustomTags": value.CustomTags = PlayFabJson.readMap(in, stringAdapter); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class BanUsersResultAdapter extends TypeAdapter<BanUsersResult> {
+        private final TypeAdapter<BanInfo> banInfoAdapter;
+
+        private BanUsersResultAdapter(Gson gson) {
+            banInfoAdapter = gson.getAdapter(BanInfo.class);
+        }
+
+        @Override
+        public void write(JsonWriter out, BanUsersResult value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            PlayFabJson.writeList(out.name("BanData"), value.BanData, banInfoAdapter);
+            out.endObject();
+        }
+
+        @Override
+        public BanUsersResult read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            BanUsersResult value = new BanUsersResult();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "BanData": value.BanData = PlayFabJson.readList(in, banInfoAdapter); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class BlankResultAdapter extends TypeAdapter<BlankResult> {
+        private BlankResultAdapter(Gson gson) {
+        }
+
+        @Override
+        public void write(JsonWriter out, BlankResult value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.endObject();
+        }
+
+        @Override
+        public BlankResult read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            BlankResult value = new BlankResult();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class CatalogItemAdapter extends TypeAdapter<CatalogItem> {
+        private final TypeAdapter<CatalogItemBundleInfo> catalogItemBundleInfoAdapter;
+        private final TypeAdapter<CatalogItemConsumableInfo> catalogItemConsumableInfoAdapter;
+        private final TypeAdapter<CatalogItemContainerInfo> catalogItemContainerInfoAdapter;
+        private final TypeAdapter<Long> longAdapter;
+        private final TypeAdapter<String> stringAdapter;
+
+        private CatalogItemAdapter(Gson gson) {
+            catalogItemBundleInfoAdapter = gson.getAdapter(CatalogItemBundleInfo.class);
+            catalogItemConsumableInfoAdapter = gson.getAdapter(CatalogItemConsumableInfo.class);
+            catalogItemContainerInfoAdapter = gson.getAdapter(CatalogItemContainerInfo.class);
+            longAdapter = gson.getAdapter(Long.class);
+            stringAdapter = gson.getAdapter(String.class);
+        }
+
+        @Override
+        public void write(JsonWriter out, CatalogItem value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            catalogItemBundleInfoAdapter.write(out.name("Bundle"), value.Bundle);
+            out.name("CanBecomeCharacter").value(value.CanBecomeCharacter);
+            out.name("CatalogVersion").value(value.CatalogVersion);
+            catalogItemConsumableInfoAdapter.write(out.name("Consumable"), value.Consumable);
+            catalogItemContainerInfoAdapter.write(out.name("Container"), value.Container);
+            out.name("CustomData").value(value.CustomData);
+            out.name("Description").value(value.Description);
+            out.name("DisplayName").value(value.DisplayName);
+            out.name("InitialLimitedEditionCount").value(value.InitialLimitedEditionCount);
+            out.name("IsLimitedEdition").value(value.IsLimitedEdition);
+            out.name("IsStackable").value(value.IsStackable);
+            out.name("IsTradable").value(value.IsTradable);
+            out.name("ItemClass").value(value.ItemClass);
+            out.name("ItemId").value(value.ItemId);
+            out.name("ItemImageUrl").value(value.ItemImageUrl);
+            PlayFabJson.writeMap(out.name("RealCurrencyPrices"), value.RealCurrencyPrices, longAdapter);
+            PlayFabJson.writeList(out.name("Tags"), value.Tags, stringAdapter);
+            PlayFabJson.writeMap(out.name("VirtualCurrencyPrices"), value.VirtualCurrencyPrices, longAdapter);
+            out.endObject();
+        }
+
+        @Override
+        public CatalogItem read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            CatalogItem value = new CatalogItem();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "Bundle": value.Bundle = catalogItemBundleInfoAdapter.read(in); break;
+                        case "CanBecomeCharacter": value.CanBecomeCharacter = PlayFabJson.readBoolean(in); break;
+                        case "CatalogVersion": value.CatalogVersion = PlayFabJson.readString(in); break;
+                        case "Consumable": value.Consumable = catalogItemConsumableInfoAdapter.read(in); break;
+                        case "Container": value.Container = catalogItemContainerInfoAdapter.read(in); break;
+                        case "CustomData": value.CustomData = PlayFabJson.readString(in); break;
+                        case "Description": value.Description = PlayFabJson.readString(in); break;
+                        case "DisplayName": value.DisplayName = PlayFabJson.readString(in); break;
+                        case "InitialLimitedEditionCount": value.InitialLimitedEditionCount = PlayFabJson.readInteger(in); break;
+                        case "IsLimitedEdition": value.IsLimitedEdition = PlayFabJson.readBoolean(in); break;
+                        case "IsStackable": value.IsStackable = PlayFabJson.readBoolean(in); break;
+                        case "IsTradable": value.IsTradable = PlayFabJson.readBoolean(in); break;
+                        case "ItemClass": value.ItemClass = PlayFabJson.readString(in); break;
+                        case "ItemId": value.ItemId = PlayFabJson.readString(in); break;
+                        case "ItemImageUrl": value.ItemImageUrl = PlayFabJson.readString(in); break;
+                        case "RealCurrencyPrices": value.RealCurrencyPrices = PlayFabJson.readMap(in, longAdapter); break;
+                        case "Tags": value.Tags = PlayFabJson.readList(in, stringAdapter); break;
+                        case "VirtualCurrencyPrices": value.VirtualCurrencyPrices = PlayFabJson.readMap(in, longAdapter); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class CatalogItemBundleInfoAdapter extends TypeAdapter<CatalogItemBundleInfo> {
+        private final TypeAdapter<String> stringAdapter;
+        private final TypeAdapter<Long> longAdapter;
+
+        private CatalogItemBundleInfoAdapter(Gson gson) {
+            stringAdapter = gson.getAdapter(String.class);
+            longAdapter = gson.getAdapter(Long.class);
+        }
+
+        @Override
+        public void write(JsonWriter out, CatalogItemBundleInfo value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            PlayFabJson.writeList(out.name("BundledItems"), value.BundledItems, stringAdapter);
+            PlayFabJson.writeList(out.name("BundledResultTables"), value.BundledResultTables, stringAdapter);
+            PlayFabJson.writeMap(out.name("BundledVirtualCurrencies"), value.BundledVirtualCurrencies, longAdapter);
+            out.endObject();
+        }
+
+        @Override
+        public CatalogItemBundleInfo read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            CatalogItemBundleInfo value = new CatalogItemBundleInfo();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "BundledItems": value.BundledItems = PlayFabJson.readList(in, stringAdapter); break;
+                        case "BundledResultTables": value.BundledResultTables = PlayFabJson.readList(in, stringAdapter); break;
+                        case "BundledVirtualCurrencies": value.BundledVirtualCurrencies = PlayFabJson.readMap(in, longAdapter); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class CatalogItemConsumableInfoAdapter extends TypeAdapter<CatalogItemConsumableInfo> {
+        private CatalogItemConsumableInfoAdapter(Gson gson) {
+        }
+
+        @Override
+        public void write(JsonWriter out, CatalogItemConsumableInfo value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.name("UsageCount").value(value.UsageCount);
+            out.name("UsagePeriod").value(value.UsagePeriod);
+            out.name("UsagePeriodGroup").value(value.UsagePeriodGroup);
+            out.endObject();
+        }
+
+        @Override
+        public CatalogItemConsumableInfo read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            CatalogItemConsumableInfo value = new CatalogItemConsumableInfo();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "UsageCount": value.UsageCount = PlayFabJson.readLong(in); break;
+                        case "UsagePeriod": value.UsagePeriod = PlayFabJson.readLong(in); break;
+                        case "UsagePeriodGroup": value.UsagePeriodGroup = PlayFabJson.readString(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class CatalogItemContainerInfoAdapter extends TypeAdapter<CatalogItemContainerInfo> {
+        private final TypeAdapter<String> stringAdapter;
+        private final TypeAdapter<Long> longAdapter;
+
+        private CatalogItemContainerInfoAdapter(Gson gson) {
+            stringAdapter = gson.getAdapter(String.class);
+            longAdapter = gson.getAdapter(Long.class);
+        }
+
+        @Override
+        public void write(JsonWriter out, CatalogItemContainerInfo value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            PlayFabJson.writeList(out.name("ItemContents"), value.ItemContents, stringAdapter);
+            out.name("KeyItemId").value(value.KeyItemId);
+            PlayFabJson.writeList(out.name("ResultTableContents"), value.ResultTableContents, stringAdapter);
+            PlayFabJson.writeMap(out.name("VirtualCurrencyContents"), value.VirtualCurrencyContents, longAdapter);
+            out.endObject();
+        }
+
+        @Override
+        public CatalogItemContainerInfo read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            CatalogItemContainerInfo value = new CatalogItemContainerInfo();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "ItemContents": value.ItemContents = PlayFabJson.readList(in, stringAdapter); break;
+                        case "KeyItemId": value.KeyItemId = PlayFabJson.readString(in); break;
+                        case "ResultTableContents": value.ResultTableContents = PlayFabJson.readList(in, stringAdapter); break;
+                        case "VirtualCurrencyContents": value.VirtualCurrencyContents = PlayFabJson.readMap(in, longAdapter); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class CheckLimitedEditionItemAvailabilityRequestAdapter extends TypeAdapter<CheckLimitedEditionItemAvailabilityRequest> {
+        private CheckLimitedEditionItemAvailabilityRequestAdapter(Gson gson) {
+        }
+
+        @Override
+        public void write(JsonWriter out, CheckLimitedEditionItemAvailabilityRequest value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.name("CatalogVersion").value(value.CatalogVersion);
+            out.name("ItemId").value(value.ItemId);
+            out.endObject();
+        }
+
+        @Override
+        public CheckLimitedEditionItemAvailabilityRequest read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            CheckLimitedEditionItemAvailabilityRequest value = new CheckLimitedEditionItemAvailabilityRequest();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "CatalogVersion": value.CatalogVersion = PlayFabJson.readString(in); break;
+                        case "ItemId": value.ItemId = PlayFabJson.readString(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class CheckLimitedEditionItemAvailabilityResultAdapter extends TypeAdapter<CheckLimitedEditionItemAvailabilityResult> {
+        private CheckLimitedEditionItemAvailabilityResultAdapter(Gson gson) {
+        }
+
+        @Override
+        public void write(JsonWriter out, CheckLimitedEditionItemAvailabilityResult value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.name("Amount").value(value.Amount);
+            out.endObject();
+        }
+
+        @Override
+        public CheckLimitedEditionItemAvailabilityResult read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            CheckLimitedEditionItemAvailabilityResult value = new CheckLimitedEditionItemAvailabilityResult();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "Amount": value.Amount = PlayFabJson.readInteger(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class CloudScriptFileAdapter extends TypeAdapter<CloudScriptFile> {
+        private CloudScriptFileAdapter(Gson gson) {
+        }
+
+        @Override
+        public void write(JsonWriter out, CloudScriptFile value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.name("FileContents").value(value.FileContents);
+            out.name("Filename").value(value.Filename);
+            out.endObject();
+        }
+
+        @Override
+        public CloudScriptFile read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            CloudScriptFile value = new CloudScriptFile();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "FileContents": value.FileContents = PlayFabJson.readString(in); break;
+                        case "Filename": value.Filename = PlayFabJson.readString(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class CloudScriptTaskParameterAdapter extends TypeAdapter<CloudScriptTaskParameter> {
+        private final TypeAdapter<Object> objectAdapter;
+
+        private CloudScriptTaskParameterAdapter(Gson gson) {
+            objectAdapter = gson.getAdapter(Object.class);
+        }
+
+        @Override
+        public void write(JsonWriter out, CloudScriptTaskParameter value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            objectAdapter.write(out.name("Argument"), value.Argument);
+            out.name("FunctionName").value(value.FunctionName);
+            out.endObject();
+        }
+
+        @Override
+        public CloudScriptTaskParameter read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            CloudScriptTaskParameter value = new CloudScriptTaskParameter();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "Argument": value.Argument = objectAdapter.read(in); break;
+                        case "FunctionName": value.FunctionName = PlayFabJson.readString(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class CloudScriptTaskSummaryAdapter extends TypeAdapter<CloudScriptTaskSummary> {
+        private final TypeAdapter<Date> dateAdapter;
+        private final TypeAdapter<Double> doubleAdapter;
+        private final TypeAdapter<ExecuteCloudScriptResult> executeCloudScriptResultAdapter;
+        private final TypeAdapter<TaskInstanceStatus> taskInstanceStatusAdapter;
+        private final TypeAdapter<NameIdentifier> nameIdentifierAdapter;
+
+        private CloudScriptTaskSummaryAdapter(Gson gson) {
+            dateAdapter = gson.getAdapter(Date.class);
+            doubleAdapter = gson.getAdapter(Double.class);
+            executeCloudScriptResultAdapter = gson.getAdapter(ExecuteCloudScriptResult.class);
+            taskInstanceStatusAdapter = gson.getAdapter(TaskInstanceStatus.class);
+            nameIdentifierAdapter = gson.getAdapter(NameIdentifier.class);
+        }
+
+        @Override
+        public void write(JsonWriter out, CloudScriptTaskSummary value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            dateAdapter.write(out.name("CompletedAt"), value.CompletedAt);
+            doubleAdapter.write(out.name("EstimatedSecondsRemaining"), value.EstimatedSecondsRemaining);
+            doubleAdapter.write(out.name("PercentComplete"), value.PercentComplete);
+            executeCloudScriptResultAdapter.write(out.name("Result"), value.Result);
+            out.name("ScheduledByUserId").value(value.ScheduledByUserId);
+            dateAdapter.write(out.name("StartedAt"), value.StartedAt);
+            taskInstanceStatusAdapter.write(out.name("Status"), value.Status);
+            nameIdentifierAdapter.write(out.name("TaskIdentifier"), value.TaskIdentifier);
+            out.name("TaskInstanceId").value(value.TaskInstanceId);
+            out.endObject();
+        }
+
+        @Override
+        public CloudScriptTaskSummary read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            CloudScriptTaskSummary value = new CloudScriptTaskSummary();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "CompletedAt": value.CompletedAt = dateAdapter.read(in); break;
+                        case "EstimatedSecondsRemaining": value.EstimatedSecondsRemaining = doubleAdapter.read(in); break;
+                        case "PercentComplete": value.PercentComplete = doubleAdapter.read(in); break;
+                        case "Result": value.Result = executeCloudScriptResultAdapter.read(in); break;
+                        case "ScheduledByUserId": value.ScheduledByUserId = PlayFabJson.readString(in); break;
+                        case "StartedAt": value.StartedAt = dateAdapter.read(in); break;
+                        case "Status": value.Status = taskInstanceStatusAdapter.read(in); break;
+                        case "TaskIdentifier": value.TaskIdentifier = nameIdentifierAdapter.read(in); break;
+                        case "TaskInstanceId": value.TaskInstanceId = PlayFabJson.readString(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class CloudScriptVersionStatusAdapter extends TypeAdapter<CloudScriptVersionStatus> {
+        private CloudScriptVersionStatusAdapter(Gson gson) {
+        }
+
+        @Override
+        public void write(JsonWriter out, CloudScriptVersionStatus value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.name("LatestRevision").value(value.LatestRevision);
+            out.name("PublishedRevision").value(value.PublishedRevision);
+            out.name("Version").value(value.Version);
+            out.endObject();
+        }
+
+        @Override
+        public CloudScriptVersionStatus read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            CloudScriptVersionStatus value = new CloudScriptVersionStatus();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "LatestRevision": value.LatestRevision = PlayFabJson.readInteger(in); break;
+                        case "PublishedRevision": value.PublishedRevision = PlayFabJson.readInteger(in); break;
+                        case "Version": value.Version = PlayFabJson.readInteger(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class ContactEmailInfoAdapter extends TypeAdapter<ContactEmailInfo> {
+        private final TypeAdapter<EmailVerificationStatus> emailVerificationStatusAdapter;
+
+        private ContactEmailInfoAdapter(Gson gson) {
+            emailVerificationStatusAdapter = gson.getAdapter(EmailVerificationStatus.class);
+        }
+
+        @Override
+        public void write(JsonWriter out, ContactEmailInfo value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.name("EmailAddress").value(value.EmailAddress);
+            out.name("Name").value(value.Name);
+            emailVerificationStatusAdapter.write(out.name("VerificationStatus"), value.VerificationStatus);
+            out.endObject();
+        }
+
+        @Override
+        public ContactEmailInfo read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            ContactEmailInfo value = new ContactEmailInfo();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "EmailAddress": value.EmailAddress = PlayFabJson.readString(in); break;
+                        case "Name": value.Name = PlayFabJson.readString(in); break;
+                        case "VerificationStatus": value.VerificationStatus = emailVerificationStatusAdapter.read(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class ContactEmailInfoModelAdapter extends TypeAdapter<ContactEmailInfoModel> {
+        private final TypeAdapter<EmailVerificationStatus> emailVerificationStatusAdapter;
+
+        private ContactEmailInfoModelAdapter(Gson gson) {
+            emailVerificationStatusAdapter = gson.getAdapter(EmailVerificationStatus.class);
+        }
+
+        @Override
+        public void write(JsonWriter out, ContactEmailInfoModel value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.name("EmailAddress").value(value.EmailAddress);
+            out.name("Name").value(value.Name);
+            emailVerificationStatusAdapter.write(out.name("VerificationStatus"), value.VerificationStatus);
+            out.endObject();
+        }
+
+        @Override
+        public ContactEmailInfoModel read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            ContactEmailInfoModel value = new ContactEmailInfoModel();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "EmailAddress": value.EmailAddress = PlayFabJson.readString(in); break;
+                        case "Name": value.Name = PlayFabJson.readString(in); break;
+                        case "VerificationStatus": value.VerificationStatus = emailVerificationStatusAdapter.read(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class ContentInfoAdapter extends TypeAdapter<ContentInfo> {
+        private final TypeAdapter<Date> dateAdapter;
+        private final TypeAdapter<Double> doubleAdapter;
+
+        private ContentInfoAdapter(Gson gson) {
+            dateAdapter = gson.getAdapter(Date.class);
+            doubleAdapter = gson.getAdapter(Double.class);
+        }
+
+        @Override
+        public void write(JsonWriter out, ContentInfo value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.name("Key").value(value.Key);
+            dateAdapter.write(out.name("LastModified"), value.LastModified);
+            doubleAdapter.write(out.name("Size"), value.Size);
+            out.endObject();
+        }
+
+        @Override
+        public ContentInfo read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            ContentInfo value = new ContentInfo();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "Key": value.Key = PlayFabJson.readString(in); break;
+                        case "LastModified": value.LastModified = dateAdapter.read(in); break;
+                        case "Size": value.Size = doubleAdapter.read(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class CreateActionsOnPlayerSegmentTaskRequestAdapter extends TypeAdapter<CreateActionsOnPlayerSegmentTaskRequest> {
+        private final TypeAdapter<String> stringAdapter;
+        private final TypeAdapter<ActionsOnPlayersInSegmentTaskParameter> actionsOnPlayersInSegmentTaskParameterAdapter;
+
+        private CreateActionsOnPlayerSegmentTaskRequestAdapter(Gson gson) {
+            stringAdapter = gson.getAdapter(String.class);
+            actionsOnPlayersInSegmentTaskParameterAdapter = gson.getAdapter(ActionsOnPlayersInSegmentTaskParameter.class);
+        }
+
+        @Override
+        public void write(JsonWriter out, CreateActionsOnPlayerSegmentTaskRequest value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            PlayFabJson.writeMap(out.name("CustomTags"), value.CustomTags, stringAdapter);
+            out.name("Description").value(value.Description);
+            out.name("IsActive").value(value.IsActive);
+            out.name("Name").value(value.Name);
+            actionsOnPlayersInSegmentTaskParameterAdapter.write(out.name("Parameter"), value.Parameter);
+            out.name("Schedule").value(value.Schedule);
+            out.endObject();
+        }
+
+        @Override
+        public CreateActionsOnPlayerSegmentTaskRequest read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            CreateActionsOnPlayerSegmentTaskRequest value = new CreateActionsOnPlayerSegmentTaskRequest();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "CustomTags": value.CustomTags = PlayFabJson.readMap(in, stringAdapter); break;
+                        case "Description": value.Description = PlayFabJson.readString(in); break;
+                        case "IsActive": value.IsActive = PlayFabJson.readBoolean(in); break;
+                        case "Name": value.Name = PlayFabJson.readString(in); break;
+                        case "Parameter": value.Parameter = actionsOnPlayersInSegmentTaskParameterAdapter.read(in); break;
+                        case "Schedule": value.Schedule = PlayFabJson.readString(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class CreateCloudScriptTaskRequestAdapter extends TypeAdapter<CreateCloudScriptTaskRequest> {
+        private final TypeAdapter<String> stringAdapter;
+        private final TypeAdapter<CloudScriptTaskParameter> cloudScriptTaskParameterAdapter;
+
+        private CreateCloudScriptTaskRequestAdapter(Gson gson) {
+            stringAdapter = gson.getAdapter(String.class);
+            cloudScriptTaskParameterAdapter = gson.getAdapter(CloudScriptTaskParameter.class);
+        }
+
+        @Override
+        public void write(JsonWriter out, CreateCloudScriptTaskRequest value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            PlayFabJson.writeMap(out.name("CustomTags"), value.CustomTags, stringAdapter);
+            out.name("Description").value(value.Description);
+            out.name("IsActive").value(value.IsActive);
+            out.name("Name").value(value.Name);
+            cloudScriptTaskParameterAdapter.write(out.name("Parameter"), value.Parameter);
+            out.name("Schedule").value(value.Schedule);
+            out.endObject();
+        }
+
+        @Override
+        public CreateCloudScriptTaskRequest read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            CreateCloudScriptTaskRequest value = new CreateCloudScriptTaskRequest();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "CustomTags": value.CustomTags = PlayFabJson.readMap(in, stringAdapter); break;
+                        case "Description": value.Description = PlayFabJson.readString(in); break;
+                        case "IsActive": value.IsActive = PlayFabJson.readBoolean(in); break;
+                        case "Name": value.Name = PlayFabJson.readString(in); break;
+                        case "Parameter": value.Parameter = cloudScriptTaskParameterAdapter.read(in); break;
+                        case "Schedule": value.Schedule = PlayFabJson.readString(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class CreateInsightsScheduledScalingTaskRequestAdapter extends TypeAdapter<CreateInsightsScheduledScalingTaskRequest> {
+        private final TypeAdapter<String> stringAdapter;
+        private final TypeAdapter<InsightsScalingTaskParameter> insightsScalingTaskParameterAdapter;
+
+        private CreateInsightsScheduledScalingTaskRequestAdapter(Gson gson) {
+            stringAdapter = gson.getAdapter(String.class);
+            insightsScalingTaskParameterAdapter = gson.getAdapter(InsightsScalingTaskParameter.class);
+        }
+
+        @Override
+        public void write(JsonWriter out, CreateInsightsScheduledScalingTaskRequest value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            PlayFabJson.writeMap(out.name("CustomTags"), value.CustomTags, stringAdapter);
+            out.name("Description").value(value.Description);
+            out.name("IsActive").value(value.IsActive);
+            out.name("Name").value(value.Name);
+            insightsScalingTaskParameterAdapter.write(out.name("Parameter"), value.Parameter);
+            out.name("Schedule").value(value.Schedule);
+            out.endObject();
+        }
+
+        @Override
+        public CreateInsightsScheduledScalingTaskRequest read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            CreateInsightsScheduledScalingTaskRequest value = new CreateInsightsScheduledScalingTaskRequest();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "CustomTags": value.CustomTags = PlayFabJson.readMap(in, stringAdapter); break;
+                        case "Description": value.Description = PlayFabJson.readString(in); break;
+                        case "IsActive": value.IsActive = PlayFabJson.readBoolean(in); break;
+                        case "Name": value.Name = PlayFabJson.readString(in); break;
+                        case "Parameter": value.Parameter = insightsScalingTaskParameterAdapter.read(in); break;
+                        case "Schedule": value.Schedule = PlayFabJson.readString(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class CreateOpenIdConnectionRequestAdapter extends TypeAdapter<CreateOpenIdConnectionRequest> {
+        private final TypeAdapter<OpenIdIssuerInformation> openIdIssuerInformationAdapter;
+
+        private CreateOpenIdConnectionRequestAdapter(Gson gson) {
+            openIdIssuerInformationAdapter = gson.getAdapter(OpenIdIssuerInformation.class);
+        }
+
+        @Override
+        public void write(JsonWriter out, CreateOpenIdConnectionRequest value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.name("ClientId").value(value.ClientId);
+            out.name("ClientSecret").value(value.ClientSecret);
+            out.name("ConnectionId").value(value.ConnectionId);
+            out.name("IgnoreNonce").value(value.IgnoreNonce);
+            out.name("IssuerDiscoveryUrl").value(value.IssuerDiscoveryUrl);
+            openIdIssuerInformationAdapter.write(out.name("IssuerInformation"), value.IssuerInformation);
+            out.endObject();
+        }
+
+        @Override
+        public CreateOpenIdConnectionRequest read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            CreateOpenIdConnectionRequest value = new CreateOpenIdConnectionRequest();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "ClientId": value.ClientId = PlayFabJson.readString(in); break;
+                        case "ClientSecret": value.ClientSecret = PlayFabJson.readString(in); break;
+                        case "ConnectionId": value.ConnectionId = PlayFabJson.readString(in); break;
+                        case "IgnoreNonce": value.IgnoreNonce = PlayFabJson.readBoolean(in); break;
+                        case "IssuerDiscoveryUrl": value.IssuerDiscoveryUrl = PlayFabJson.readString(in); break;
+                        case "IssuerInformation": value.IssuerInformation = openIdIssuerInformationAdapter.read(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class CreatePlayerSharedSecretRequestAdapter extends TypeAdapter<CreatePlayerSharedSecretRequest> {
+        private CreatePlayerSharedSecretRequestAdapter(Gson gson) {
+        }
+
+        @Override
+        public void write(JsonWriter out, CreatePlayerSharedSecretRequest value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.name("FriendlyName").value(value.FriendlyName);
+            out.endObject();
+        }
+
+        @Override
+        public CreatePlayerSharedSecretRequest read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            CreatePlayerSharedSecretRequest value = new CreatePlayerSharedSecretRequest();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "FriendlyName": value.FriendlyName = PlayFabJson.readString(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class CreatePlayerSharedSecretResultAdapter extends TypeAdapter<CreatePlayerSharedSecretResult> {
+        private CreatePlayerSharedSecretResultAdapter(Gson gson) {
+        }
+
+        @Override
+        public void write(JsonWriter out, CreatePlayerSharedSecretResult value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.name("SecretKey").value(value.SecretKey);
+            out.endObject();
+        }
+
+        @Override
+        public CreatePlayerSharedSecretResult read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            CreatePlayerSharedSecretResult value = new CreatePlayerSharedSecretResult();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "SecretKey": value.SecretKey = PlayFabJson.readString(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class CreatePlayerStatisticDefinitionRequestAdapter extends TypeAdapter<CreatePlayerStatisticDefinitionRequest> {
+        private final TypeAdapter<StatisticAggregationMethod> statisticAggregationMethodAdapter;
+        private final TypeAdapter<String> stringAdapter;
+        private final TypeAdapter<StatisticResetIntervalOption> statisticResetIntervalOptionAdapter;
+
+        private CreatePlayerStatisticDefinitionRequestAdapter(Gson gson) {
+            statisticAggregationMethodAdapter = gson.getAdapter(StatisticAggregationMethod.class);
+            stringAdapter = gson.getAdapter(String.class);
+            statisticResetIntervalOptionAdapter = gson.getAdapter(StatisticResetIntervalOption.class);
+        }
+
+        @Override
+        public void write(JsonWriter out, CreatePlayerStatisticDefinitionRequest value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            statisticAggregationMethodAdapter.write(out.name("AggregationMethod"), value.AggregationMethod);
+            PlayFabJson.writeMap(out.name("CustomTags"), value.CustomTags, stringAdapter);
+            out.name("StatisticName").value(value.StatisticName);
+            statisticResetIntervalOptionAdapter.write(out.name("VersionChangeInterval"), value.VersionChangeInterval);
+            out.endObject();
+        }
+
+        @Override
+        public CreatePlayerStatisticDefinitionRequest read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            CreatePlayerStatisticDefinitionRequest value = new CreatePlayerStatisticDefinitionRequest();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "AggregationMethod": value.AggregationMethod = statisticAggregationMethodAdapter.read(in); break;
+                        case "CustomTags": value.CustomTags = PlayFabJson.readMap(in, stringAdapter); break;
+                        case "StatisticName": value.StatisticName = PlayFabJson.readString(in); break;
+                        case "VersionChangeInterval": value.VersionChangeInterval = statisticResetIntervalOptionAdapter.read(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class CreatePlayerStatisticDefinitionResultAdapter extends TypeAdapter<CreatePlayerStatisticDefinitionResult> {
+        private final TypeAdapter<PlayerStatisticDefinition> playerStatisticDefinitionAdapter;
+
+        private CreatePlayerStatisticDefinitionResultAdapter(Gson gson) {
+            playerStatisticDefinitionAdapter = gson.getAdapter(PlayerStatisticDefinition.class);
+        }
+
+        @Override
+        public void write(JsonWriter out, CreatePlayerStatisticDefinitionResult value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            playerStatisticDefinitionAdapter.write(out.name("Statistic"), value.Statistic);
+            out.endObject();
+        }
+
+        @Override
+        public CreatePlayerStatisticDefinitionResult read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            CreatePlayerStatisticDefinitionResult value = new CreatePlayerStatisticDefinitionResult();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "Statistic": value.Statistic = playerStatisticDefinitionAdapter.read(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class CreateSegmentRequestAdapter extends TypeAdapter<CreateSegmentRequest> {
+        private final TypeAdapter<SegmentModel> segmentModelAdapter;
+
+        private CreateSegmentRequestAdapter(Gson gson) {
+            segmentModelAdapter = gson.getAdapter(SegmentModel.class);
+        }
+
+        @Override
+        public void write(JsonWriter out, CreateSegmentRequest value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            segmentModelAdapter.write(out.name("SegmentModel"), value.SegmentModel);
+            out.endObject();
+        }
+
+        @Override
+        public CreateSegmentRequest read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            CreateSegmentRequest value = new CreateSegmentRequest();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "SegmentModel": value.SegmentModel = segmentModelAdapter.read(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class CreateSegmentResponseAdapter extends TypeAdapter<CreateSegmentResponse> {
+        private CreateSegmentResponseAdapter(Gson gson) {
+        }
+
+        @Override
+        public void write(JsonWriter out, CreateSegmentResponse value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.name("ErrorMessage").value(value.ErrorMessage);
+            out.name("SegmentId").value(value.SegmentId);
+            out.endObject();
+        }
+
+        @Override
+        public CreateSegmentResponse read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            CreateSegmentResponse value = new CreateSegmentResponse();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "ErrorMessage": value.ErrorMessage = PlayFabJson.readString(in); break;
+                        case "SegmentId": value.SegmentId = PlayFabJson.readString(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class CreateTaskResultAdapter extends TypeAdapter<CreateTaskResult> {
+        private CreateTaskResultAdapter(Gson gson) {
+        }
+
+        @Override
+        public void write(JsonWriter out, CreateTaskResult value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.name("TaskId").value(value.TaskId);
+            out.endObject();
+        }
+
+        @Override
+        public CreateTaskResult read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            CreateTaskResult value = new CreateTaskResult();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "TaskId": value.TaskId = PlayFabJson.readString(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class DeleteContentRequestAdapter extends TypeAdapter<DeleteContentRequest> {
+        private DeleteContentRequestAdapter(Gson gson) {
+        }
+
+        @Override
+        public void write(JsonWriter out, DeleteContentRequest value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.name("Key").value(value.Key);
+            out.endObject();
+        }
+
+        @Override
+        public DeleteContentRequest read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            DeleteContentRequest value = new DeleteContentRequest();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "Key": value.Key = PlayFabJson.readString(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class DeleteMasterPlayerAccountRequestAdapter extends TypeAdapter<DeleteMasterPlayerAccountRequest> {
+        private DeleteMasterPlayerAccountRequestAdapter(Gson gson) {
+        }
+
+        @Override
+        public void write(JsonWriter out, DeleteMasterPlayerAccountRequest value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.name("MetaData").value(value.MetaData);
+            out.name("PlayFabId").value(value.PlayFabId);
+            out.endObject();
+        }
+
+        @Override
+        public DeleteMasterPlayerAccountRequest read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            DeleteMasterPlayerAccountRequest value = new DeleteMasterPlayerAccountRequest();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "MetaData": value.MetaData = PlayFabJson.readString(in); break;
+                        case "PlayFabId": value.PlayFabId = PlayFabJson.readString(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class DeleteMasterPlayerAccountResultAdapter extends TypeAdapter<DeleteMasterPlayerAccountResult> {
+        private final TypeAdapter<String> stringAdapter;
+
+        private DeleteMasterPlayerAccountResultAdapter(Gson gson) {
+            stringAdapter = gson.getAdapter(String.class);
+        }
+
+        @Override
+        public void write(JsonWriter out, DeleteMasterPlayerAccountResult value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.name("JobReceiptId").value(value.JobReceiptId);
+            PlayFabJson.writeList(out.name("TitleIds"), value.TitleIds, stringAdapter);
+            out.endObject();
+        }
+
+        @Override
+        public DeleteMasterPlayerAccountResult read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            DeleteMasterPlayerAccountResult value = new DeleteMasterPlayerAccountResult();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "JobReceiptId": value.JobReceiptId = PlayFabJson.readString(in); break;
+                        case "TitleIds": value.TitleIds = PlayFabJson.readList(in, stringAdapter); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class DeleteMembershipSubscriptionRequestAdapter extends TypeAdapter<DeleteMembershipSubscriptionRequest> {
+        private final TypeAdapter<String> stringAdapter;
+
+        private DeleteMembershipSubscriptionRequestAdapter(Gson gson) {
+            stringAdapter = gson.getAdapter(String.class);
+        }
+
+        @Override
+        public void write(JsonWriter out, DeleteMembershipSubscriptionRequest value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            PlayFabJson.writeMap(out.name("CustomTags"), value.CustomTags, stringAdapter);
+            out.name("MembershipId").value(value.MembershipId);
+            out.name("PlayFabId").value(value.PlayFabId);
+            out.name("SubscriptionId").value(value.SubscriptionId);
+            out.endObject();
+        }
+
+        @Override
+        public DeleteMembershipSubscriptionRequest read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            DeleteMembershipSubscriptionRequest value = new DeleteMembershipSubscriptionRequest();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "CustomTags": value.CustomTags = PlayFabJson.readMap(in, stringAdapter); break;
+                        case "MembershipId": value.MembershipId = PlayFabJson.readString(in); break;
+                        case "PlayFabId": value.PlayFabId = PlayFabJson.readString(in); break;
+                        case "SubscriptionId": value.SubscriptionId = PlayFabJson.readString(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class DeleteMembershipSubscriptionResultAdapter extends TypeAdapter<DeleteMembershipSubscriptionResult> {
+        private DeleteMembershipSubscriptionResultAdapter(Gson gson) {
+        }
+
+        @Override
+        public void write(JsonWriter out, DeleteMembershipSubscriptionResult value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.endObject();
+        }
+
+        @Override
+        public DeleteMembershipSubscriptionResult read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            DeleteMembershipSubscriptionResult value = new DeleteMembershipSubscriptionResult();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class DeleteOpenIdConnectionRequestAdapter extends TypeAdapter<DeleteOpenIdConnectionRequest> {
+        private DeleteOpenIdConnectionRequestAdapter(Gson gson) {
+        }
+
+        @Override
+        public void write(JsonWriter out, DeleteOpenIdConnectionRequest value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.name("ConnectionId").value(value.ConnectionId);
+            out.endObject();
+        }
+
+        @Override
+        public DeleteOpenIdConnectionRequest read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            DeleteOpenIdConnectionRequest value = new DeleteOpenIdConnectionRequest();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "ConnectionId": value.ConnectionId = PlayFabJson.readString(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class DeletePlayerRequestAdapter extends TypeAdapter<DeletePlayerRequest> {
+        private DeletePlayerRequestAdapter(Gson gson) {
+        }
+
+        @Override
+        public void write(JsonWriter out, DeletePlayerRequest value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.name("PlayFabId").value(value.PlayFabId);
+            out.endObject();
+        }
+
+        @Override
+        public DeletePlayerRequest read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            DeletePlayerRequest value = new DeletePlayerRequest();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "PlayFabId": value.PlayFabId = PlayFabJson.readString(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class DeletePlayerResultAdapter extends TypeAdapter<DeletePlayerResult> {
+        private DeletePlayerResultAdapter(Gson gson) {
+        }
+
+        @Override
+        public void write(JsonWriter out, DeletePlayerResult value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.endObject();
+        }
+
+        @Override
+        public DeletePlayerResult read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            DeletePlayerResult value = new DeletePlayerResult();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class DeletePlayerSegmentActionAdapter extends TypeAdapter<DeletePlayerSegmentAction> {
+        private DeletePlayerSegmentActionAdapter(Gson gson) {
+        }
+
+        @Override
+        public void write(JsonWriter out, DeletePlayerSegmentAction value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.endObject();
+        }
+
+        @Override
+        public DeletePlayerSegmentAction read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            DeletePlayerSegmentAction value = new DeletePlayerSegmentAction();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class DeletePlayerSharedSecretRequestAdapter extends TypeAdapter<DeletePlayerSharedSecretRequest> {
+        private DeletePlayerSharedSecretRequestAdapter(Gson gson) {
+        }
+
+        @Override
+        public void write(JsonWriter out, DeletePlayerSharedSecretRequest value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.name("SecretKey").value(value.SecretKey);
+            out.endObject();
+        }
+
+        @Override
+        public DeletePlayerSharedSecretRequest read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            DeletePlayerSharedSecretRequest value = new DeletePlayerSharedSecretRequest();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "SecretKey": value.SecretKey = PlayFabJson.readString(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class DeletePlayerSharedSecretResultAdapter extends TypeAdapter<DeletePlayerSharedSecretResult> {
+        private DeletePlayerSharedSecretResultAdapter(Gson gson) {
+        }
+
+        @Override
+        public void write(JsonWriter out, DeletePlayerSharedSecretResult value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.endObject();
+        }
+
+        @Override
+        public DeletePlayerSharedSecretResult read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            DeletePlayerSharedSecretResult value = new DeletePlayerSharedSecretResult();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class DeletePlayerStatisticSegmentActionAdapter extends TypeAdapter<DeletePlayerStatisticSegmentAction> {
+        private DeletePlayerStatisticSegmentActionAdapter(Gson gson) {
+        }
+
+        @Override
+        public void write(JsonWriter out, DeletePlayerStatisticSegmentAction value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.name("StatisticName").value(value.StatisticName);
+            out.endObject();
+        }
+
+        @Override
+        public DeletePlayerStatisticSegmentAction read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            DeletePlayerStatisticSegmentAction value = new DeletePlayerStatisticSegmentAction();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "StatisticName": value.StatisticName = PlayFabJson.readString(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class DeleteSegmentRequestAdapter extends TypeAdapter<DeleteSegmentRequest> {
+        private DeleteSegmentRequestAdapter(Gson gson) {
+        }
+
+        @Override
+        public void write(JsonWriter out, DeleteSegmentRequest value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.name("SegmentId").value(value.SegmentId);
+            out.endObject();
+        }
+
+        @Override
+        public DeleteSegmentRequest read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            DeleteSegmentRequest value = new DeleteSegmentRequest();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "SegmentId": value.SegmentId = PlayFabJson.readString(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class DeleteSegmentsResponseAdapter extends TypeAdapter<DeleteSegmentsResponse> {
+        private DeleteSegmentsResponseAdapter(Gson gson) {
+        }
+
+        @Override
+        public void write(JsonWriter out, DeleteSegmentsResponse value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.name("ErrorMessage").value(value.ErrorMessage);
+            out.endObject();
+        }
+
+        @Override
+        public DeleteSegmentsResponse read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            DeleteSegmentsResponse value = new DeleteSegmentsResponse();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "ErrorMessage": value.ErrorMessage = PlayFabJson.readString(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class DeleteStoreRequestAdapter extends TypeAdapter<DeleteStoreRequest> {
+        private final TypeAdapter<String> stringAdapter;
+
+        private DeleteStoreRequestAdapter(Gson gson) {
+            stringAdapter = gson.getAdapter(String.class);
+        }
+
+        @Override
+        public void write(JsonWriter out, DeleteStoreRequest value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.name("CatalogVersion").value(value.CatalogVersion);
+            PlayFabJson.writeMap(out.name("CustomTags"), value.CustomTags, stringAdapter);
+            out.name("StoreId").value(value.StoreId);
+            out.endObject();
+        }
+
+        @Override
+        public DeleteStoreRequest read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            DeleteStoreRequest value = new DeleteStoreRequest();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "CatalogVersion": value.CatalogVersion = PlayFabJson.readString(in); break;
+                        case "CustomTags": value.CustomTags = PlayFabJson.readMap(in, stringAdapter); break;
+                        case "StoreId": value.StoreId = PlayFabJson.readString(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class DeleteStoreResultAdapter extends TypeAdapter<DeleteStoreResult> {
+        private DeleteStoreResultAdapter(Gson gson) {
+        }
+
+        @Override
+        public void write(JsonWriter out, DeleteStoreResult value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.endObject();
+        }
+
+        @Override
+        public DeleteStoreResult read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            DeleteStoreResult value = new DeleteStoreResult();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class DeleteTaskRequestAdapter extends TypeAdapter<DeleteTaskRequest> {
+        private final TypeAdapter<NameIdentifier> nameIdentifierAdapter;
+
+        private DeleteTaskRequestAdapter(Gson gson) {
+            nameIdentifierAdapter = gson.getAdapter(NameIdentifier.class);
+        }
+
+        @Override
+        public void write(JsonWriter out, DeleteTaskRequest value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            nameIdentifierAdapter.write(out.name("Identifier"), value.Identifier);
+            out.endObject();
+        }
+
+        @Override
+        public DeleteTaskRequest read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            DeleteTaskRequest value = new DeleteTaskRequest();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "Identifier": value.Identifier = nameIdentifierAdapter.read(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class DeleteTitleDataOverrideRequestAdapter extends TypeAdapter<DeleteTitleDataOverrideRequest> {
+        private DeleteTitleDataOverrideRequestAdapter(Gson gson) {
+        }
+
+        @Override
+        public void write(JsonWriter out, DeleteTitleDataOverrideRequest value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.name("OverrideLabel").value(value.OverrideLabel);
+            out.endObject();
+        }
+
+        @Override
+        public DeleteTitleDataOverrideRequest read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            DeleteTitleDataOverrideRequest value = new DeleteTitleDataOverrideRequest();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "OverrideLabel": value.OverrideLabel = PlayFabJson.readString(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class DeleteTitleDataOverrideResultAdapter extends TypeAdapter<DeleteTitleDataOverrideResult> {
+        private DeleteTitleDataOverrideResultAdapter(Gson gson) {
+        }
+
+        @Override
+        public void write(JsonWriter out, DeleteTitleDataOverrideResult value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.endObject();
+        }
+
+        @Override
+        public DeleteTitleDataOverrideResult read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            DeleteTitleDataOverrideResult value = new DeleteTitleDataOverrideResult();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class DeleteTitleRequestAdapter extends TypeAdapter<DeleteTitleRequest> {
+        private DeleteTitleRequestAdapter(Gson gson) {
+        }
+
+        @Override
+        public void write(JsonWriter out, DeleteTitleRequest value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.endObject();
+        }
+
+        @Override
+        public DeleteTitleRequest read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            DeleteTitleRequest value = new DeleteTitleRequest();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class DeleteTitleResultAdapter extends TypeAdapter<DeleteTitleResult> {
+        private DeleteTitleResultAdapter(Gson gson) {
+        }
+
+        @Override
+        public void write(JsonWriter out, DeleteTitleResult value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.endObject();
+        }
+
+        @Override
+        public DeleteTitleResult read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            DeleteTitleResult value = new DeleteTitleResult();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class EmailNotificationSegmentActionAdapter extends TypeAdapter<EmailNotificationSegmentAction> {
+        private EmailNotificationSegmentActionAdapter(Gson gson) {
+        }
+
+        @Override
+        public void write(JsonWriter out, EmailNotificationSegmentAction value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.name("EmailTemplateId").value(value.EmailTemplateId);
+            out.name("EmailTemplateName").value(value.EmailTemplateName);
+            out.endObject();
+        }
+
+        @Override
+        public EmailNotificationSegmentAction read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            EmailNotificationSegmentAction value = new EmailNotificationSegmentAction();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "EmailTemplateId": value.EmailTemplateId = PlayFabJson.readString(in); break;
+                        case "EmailTemplateName": value.EmailTemplateName = PlayFabJson.readString(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class EmptyResponseAdapter extends TypeAdapter<EmptyResponse> {
+        private EmptyResponseAdapter(Gson gson) {
+        }
+
+        @Override
+        public void write(JsonWriter out, EmptyResponse value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.endObject();
+        }
+
+        @Override
+        public EmptyResponse read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            EmptyResponse value = new EmptyResponse();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class EntityKeyAdapter extends TypeAdapter<EntityKey> {
+        private EntityKeyAdapter(Gson gson) {
+        }
+
+        @Override
+        public void write(JsonWriter out, EntityKey value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.name("Id").value(value.Id);
+            out.name("Type").value(value.Type);
+            out.endObject();
+        }
+
+        @Override
+        public EntityKey read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            EntityKey value = new EntityKey();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "Id": value.Id = PlayFabJson.readString(in); break;
+                        case "Type": value.Type = PlayFabJson.readString(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class ExecuteAzureFunctionSegmentActionAdapter extends TypeAdapter<ExecuteAzureFunctionSegmentAction> {
+        private final TypeAdapter<Object> objectAdapter;
+
+        private ExecuteAzureFunctionSegmentActionAdapter(Gson gson) {
+            objectAdapter = gson.getAdapter(Object.class);
+        }
+
+        @Override
+        public void write(JsonWriter out, ExecuteAzureFunctionSegmentAction value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.name("AzureFunction").value(value.AzureFunction);
+            objectAdapter.write(out.name("FunctionParameter"), value.FunctionParameter);
+            out.name("GenerateFunctionExecutedEvents").value(value.GenerateFunctionExecutedEvents);
+            out.endObject();
+        }
+
+        @Override
+        public ExecuteAzureFunctionSegmentAction read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            ExecuteAzureFunctionSegmentAction value = new ExecuteAzureFunctionSegmentAction();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "AzureFunction": value.AzureFunction = PlayFabJson.readString(in); break;
+                        case "FunctionParameter": value.FunctionParameter = objectAdapter.read(in); break;
+                        case "GenerateFunctionExecutedEvents": value.GenerateFunctionExecutedEvents = PlayFabJson.readBoolean(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class ExecuteCloudScriptResultAdapter extends TypeAdapter<ExecuteCloudScriptResult> {
+        private final TypeAdapter<ScriptExecutionError> scriptExecutionErrorAdapter;
+        private final TypeAdapter<Double> doubleAdapter;
+        private final TypeAdapter<Object> objectAdapter;
+        private final TypeAdapter<LogStatement> logStatementAdapter;
+
+        private ExecuteCloudScriptResultAdapter(Gson gson) {
+            scriptExecutionErrorAdapter = gson.getAdapter(ScriptExecutionError.class);
+            doubleAdapter = gson.getAdapter(Double.class);
+            objectAdapter = gson.getAdapter(Object.class);
+            logStatementAdapter = gson.getAdapter(LogStatement.class);
+        }
+
+        @Override
+        public void write(JsonWriter out, ExecuteCloudScriptResult value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.name("APIRequestsIssued").value(value.APIRequestsIssued);
+            scriptExecutionErrorAdapter.write(out.name("Error"), value.Error);
+            doubleAdapter.write(out.name("ExecutionTimeSeconds"), value.ExecutionTimeSeconds);
+            out.name("FunctionName").value(value.FunctionName);
+            objectAdapter.write(out.name("FunctionResult"), value.FunctionResult);
+            out.name("FunctionResultTooLarge").value(value.FunctionResultTooLarge);
+            out.name("HttpRequestsIssued").value(value.HttpRequestsIssued);
+            PlayFabJson.writeList(out.name("Logs"), value.Logs, logStatementAdapter);
+            out.name("LogsTooLarge").value(value.LogsTooLarge);
+            out.name("MemoryConsumedBytes").value(value.MemoryConsumedBytes);
+            doubleAdapter.write(out.name("ProcessorTimeSeconds"), value.ProcessorTimeSeconds);
+            out.name("Revision").value(value.Revision);
+            out.endObject();
+        }
+
+        @Override
+        public ExecuteCloudScriptResult read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            ExecuteCloudScriptResult value = new ExecuteCloudScriptResult();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "APIRequestsIssued": value.APIRequestsIssued = PlayFabJson.readInteger(in); break;
+                        case "Error": value.Error = scriptExecutionErrorAdapter.read(in); break;
+                        case "ExecutionTimeSeconds": value.ExecutionTimeSeconds = doubleAdapter.read(in); break;
+                        case "FunctionName": value.FunctionName = PlayFabJson.readString(in); break;
+                        case "FunctionResult": value.FunctionResult = objectAdapter.read(in); break;
+                        case "FunctionResultTooLarge": value.FunctionResultTooLarge = PlayFabJson.readBoolean(in); break;
+                        case "HttpRequestsIssued": value.HttpRequestsIssued = PlayFabJson.readInteger(in); break;
+                        case "Logs": value.Logs = PlayFabJson.readList(in, logStatementAdapter); break;
+                        case "LogsTooLarge": value.LogsTooLarge = PlayFabJson.readBoolean(in); break;
+                        case "MemoryConsumedBytes": value.MemoryConsumedBytes = PlayFabJson.readLong(in); break;
+                        case "ProcessorTimeSeconds": value.ProcessorTimeSeconds = doubleAdapter.read(in); break;
+                        case "Revision": value.Revision = PlayFabJson.readInteger(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class ExecuteCloudScriptSegmentActionAdapter extends TypeAdapter<ExecuteCloudScriptSegmentAction> {
+        private final TypeAdapter<Object> objectAdapter;
+
+        private ExecuteCloudScriptSegmentActionAdapter(Gson gson) {
+            objectAdapter = gson.getAdapter(Object.class);
+        }
+
+        @Override
+        public void write(JsonWriter out, ExecuteCloudScriptSegmentAction value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.name("CloudScriptFunction").value(value.CloudScriptFunction);
+            out.name("CloudScriptPublishResultsToPlayStream").value(value.CloudScriptPublishResultsToPlayStream);
+            objectAdapter.write(out.name("FunctionParameter"), value.FunctionParameter);
+            out.name("FunctionParameterJson").value(value.FunctionParameterJson);
+            out.endObject();
+        }
+
+        @Override
+        public ExecuteCloudScriptSegmentAction read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            ExecuteCloudScriptSegmentAction value = new ExecuteCloudScriptSegmentAction();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "CloudScriptFunction": value.CloudScriptFunction = PlayFabJson.readString(in); break;
+                        case "CloudScriptPublishResultsToPlayStream": value.CloudScriptPublishResultsToPlayStream = PlayFabJson.readBoolean(in); break;
+                        case "FunctionParameter": value.FunctionParameter = objectAdapter.read(in); break;
+                        case "FunctionParameterJson": value.FunctionParameterJson = PlayFabJson.readString(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class ExportMasterPlayerDataRequestAdapter extends TypeAdapter<ExportMasterPlayerDataRequest> {
+        private ExportMasterPlayerDataRequestAdapter(Gson gson) {
+        }
+
+        @Override
+        public void write(JsonWriter out, ExportMasterPlayerDataRequest value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.name("PlayFabId").value(value.PlayFabId);
+            out.endObject();
+        }
+
+        @Override
+        public ExportMasterPlayerDataRequest read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            ExportMasterPlayerDataRequest value = new ExportMasterPlayerDataRequest();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "PlayFabId": value.PlayFabId = PlayFabJson.readString(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class ExportMasterPlayerDataResultAdapter extends TypeAdapter<ExportMasterPlayerDataResult> {
+        private ExportMasterPlayerDataResultAdapter(Gson gson) {
+        }
+
+        @Override
+        public void write(JsonWriter out, ExportMasterPlayerDataResult value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.name("JobReceiptId").value(value.JobReceiptId);
+            out.endObject();
+        }
+
+        @Override
+        public ExportMasterPlayerDataResult read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            ExportMasterPlayerDataResult value = new ExportMasterPlayerDataResult();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "JobReceiptId": value.JobReceiptId = PlayFabJson.readString(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class FirstLoginDateSegmentFilterAdapter extends TypeAdapter<FirstLoginDateSegmentFilter> {
+        private final TypeAdapter<SegmentFilterComparison> segmentFilterComparisonAdapter;
+        private final TypeAdapter<Date> dateAdapter;
+
+        private FirstLoginDateSegmentFilterAdapter(Gson gson) {
+            segmentFilterComparisonAdapter = gson.getAdapter(SegmentFilterComparison.class);
+            dateAdapter = gson.getAdapter(Date.class);
+        }
+
+        @Override
+        public void write(JsonWriter out, FirstLoginDateSegmentFilter value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            segmentFilterComparisonAdapter.write(out.name("Comparison"), value.Comparison);
+            dateAdapter.write(out.name("LogInDate"), value.LogInDate);
+            out.endObject();
+        }
+
+        @Override
+        public FirstLoginDateSegmentFilter read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            FirstLoginDateSegmentFilter value = new FirstLoginDateSegmentFilter();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "Comparison": value.Comparison = segmentFilterComparisonAdapter.read(in); break;
+                        case "LogInDate": value.LogInDate = dateAdapter.read(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class FirstLoginTimespanSegmentFilterAdapter extends TypeAdapter<FirstLoginTimespanSegmentFilter> {
+        private final TypeAdapter<SegmentFilterComparison> segmentFilterComparisonAdapter;
+        private final TypeAdapter<Double> doubleAdapter;
+
+        private FirstLoginTimespanSegmentFilterAdapter(Gson gson) {
+            segmentFilterComparisonAdapter = gson.getAdapter(SegmentFilterComparison.class);
+            doubleAdapter = gson.getAdapter(Double.class);
+        }
+
+        @Override
+        public void write(JsonWriter out, FirstLoginTimespanSegmentFilter value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            segmentFilterComparisonAdapter.write(out.name("Comparison"), value.Comparison);
+            doubleAdapter.write(out.name("DurationInMinutes"), value.DurationInMinutes);
+            out.endObject();
+        }
+
+        @Override
+        public FirstLoginTimespanSegmentFilter read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            FirstLoginTimespanSegmentFilter value = new FirstLoginTimespanSegmentFilter();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "Comparison": value.Comparison = segmentFilterComparisonAdapter.read(in); break;
+                        case "DurationInMinutes": value.DurationInMinutes = doubleAdapter.read(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class GameModeInfoAdapter extends TypeAdapter<GameModeInfo> {
+        private GameModeInfoAdapter(Gson gson) {
+        }
+
+        @Override
+        public void write(JsonWriter out, GameModeInfo value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.name("Gamemode").value(value.Gamemode);
+            out.name("MaxPlayerCount").value(value.MaxPlayerCount);
+            out.name("MinPlayerCount").value(value.MinPlayerCount);
+            out.name("StartOpen").value(value.StartOpen);
+            out.endObject();
+        }
+
+        @Override
+        public GameModeInfo read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            GameModeInfo value = new GameModeInfo();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "Gamemode": value.Gamemode = PlayFabJson.readString(in); break;
+                        case "MaxPlayerCount": value.MaxPlayerCount = PlayFabJson.readLong(in); break;
+                        case "MinPlayerCount": value.MinPlayerCount = PlayFabJson.readLong(in); break;
+                        case "StartOpen": value.StartOpen = PlayFabJson.readBoolean(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class GetActionsOnPlayersInSegmentTaskInstanceResultAdapter extends TypeAdapter<GetActionsOnPlayersInSegmentTaskInstanceResult> {
+        private final TypeAdapter<ActionsOnPlayersInSegmentTaskParameter> actionsOnPlayersInSegmentTaskParameterAdapter;
+        private final TypeAdapter<ActionsOnPlayersInSegmentTaskSummary> actionsOnPlayersInSegmentTaskSummaryAdapter;
+
+        private GetActionsOnPlayersInSegmentTaskInstanceResultAdapter(Gson gson) {
+            actionsOnPlayersInSegmentTaskParameterAdapter = gson.getAdapter(ActionsOnPlayersInSegmentTaskParameter.class);
+            actionsOnPlayersInSegmentTaskSummaryAdapter = gson.getAdapter(ActionsOnPlayersInSegmentTaskSummary.class);
+        }
+
+        @Override
+        public void write(JsonWriter out, GetActionsOnPlayersInSegmentTaskInstanceResult value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            actionsOnPlayersInSegmentTaskParameterAdapter.write(out.name("Parameter"), value.Parameter);
+            actionsOnPlayersInSegmentTaskSummaryAdapter.write(out.name("Summary"), value.Summary);
+            out.endObject();
+        }
+
+        @Override
+        public GetActionsOnPlayersInSegmentTaskInstanceResult read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            GetActionsOnPlayersInSegmentTaskInstanceResult value = new GetActionsOnPlayersInSegmentTaskInstanceResult();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "Parameter": value.Parameter = actionsOnPlayersInSegmentTaskParameterAdapter.read(in); break;
+                        case "Summary": value.Summary = actionsOnPlayersInSegmentTaskSummaryAdapter.read(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class GetAllSegmentsRequestAdapter extends TypeAdapter<GetAllSegmentsRequest> {
+        private GetAllSegmentsRequestAdapter(Gson gson) {
+        }
+
+        @Override
+        public void write(JsonWriter out, GetAllSegmentsRequest value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.endObject();
+        }
+
+        @Override
+        public GetAllSegmentsRequest read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            GetAllSegmentsRequest value = new GetAllSegmentsRequest();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class GetAllSegmentsResultAdapter extends TypeAdapter<GetAllSegmentsResult> {
+        private final TypeAdapter<GetSegmentResult> getSegmentResultAdapter;
+
+        private GetAllSegmentsResultAdapter(Gson gson) {
+            getSegmentResultAdapter = gson.getAdapter(GetSegmentResult.class);
+        }
+
+        @Override
+        public void write(JsonWriter out, GetAllSegmentsResult value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            PlayFabJson.writeList(out.name("Segments"), value.Segments, getSegmentResultAdapter);
+            out.endObject();
+        }
+
+        @Override
+        public GetAllSegmentsResult read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            GetAllSegmentsResult value = new GetAllSegmentsResult();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "Segments": value.Segments = PlayFabJson.readList(in, getSegmentResultAdapter); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class GetCatalogItemsRequestAdapter extends TypeAdapter<GetCatalogItemsRequest> {
+        private GetCatalogItemsRequestAdapter(Gson gson) {
+        }
+
+        @Override
+        public void write(JsonWriter out, GetCatalogItemsRequest value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.name("CatalogVersion").value(value.CatalogVersion);
+            out.endObject();
+        }
+
+        @Override
+        public GetCatalogItemsRequest read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            GetCatalogItemsRequest value = new GetCatalogItemsRequest();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "CatalogVersion": value.CatalogVersion = PlayFabJson.readString(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class GetCatalogItemsResultAdapter extends TypeAdapter<GetCatalogItemsResult> {
+        private final TypeAdapter<CatalogItem> catalogItemAdapter;
+
+        private GetCatalogItemsResultAdapter(Gson gson) {
+            catalogItemAdapter = gson.getAdapter(CatalogItem.class);
+        }
+
+        @Override
+        public void write(JsonWriter out, GetCatalogItemsResult value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            PlayFabJson.writeList(out.name("Catalog"), value.Catalog, catalogItemAdapter);
+            out.endObject();
+        }
+
+        @Override
+        public GetCatalogItemsResult read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            GetCatalogItemsResult value = new GetCatalogItemsResult();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "Catalog": value.Catalog = PlayFabJson.readList(in, catalogItemAdapter); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class GetCloudScriptRevisionRequestAdapter extends TypeAdapter<GetCloudScriptRevisionRequest> {
+        private GetCloudScriptRevisionRequestAdapter(Gson gson) {
+        }
+
+        @Override
+        public void write(JsonWriter out, GetCloudScriptRevisionRequest value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.name("Revision").value(value.Revision);
+            out.name("Version").value(value.Version);
+            out.endObject();
+        }
+
+        @Override
+        public GetCloudScriptRevisionRequest read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            GetCloudScriptRevisionRequest value = new GetCloudScriptRevisionRequest();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "Revision": value.Revision = PlayFabJson.readInteger(in); break;
+                        case "Version": value.Version = PlayFabJson.readInteger(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class GetCloudScriptRevisionResultAdapter extends TypeAdapter<GetCloudScriptRevisionResult> {
+        private final TypeAdapter<Date> dateAdapter;
+        private final TypeAdapter<CloudScriptFile> cloudScriptFileAdapter;
+
+        private GetCloudScriptRevisionResultAdapter(Gson gson) {
+            dateAdapter = gson.getAdapter(Date.class);
+            cloudScriptFileAdapter = gson.getAdapter(CloudScriptFile.class);
+        }
+
+        @Override
+        public void write(JsonWriter out, GetCloudScriptRevisionResult value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            dateAdapter.write(out.name("CreatedAt"), value.CreatedAt);
+            PlayFabJson.writeList(out.name("Files"), value.Files, cloudScriptFileAdapter);
+            out.name("IsPublished").value(value.IsPublished);
+            out.name("Revision").value(value.Revision);
+            out.name("Version").value(value.Version);
+            out.endObject();
+        }
+
+        @Override
+        public GetCloudScriptRevisionResult read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            GetCloudScriptRevisionResult value = new GetCloudScriptRevisionResult();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "CreatedAt": value.CreatedAt = dateAdapter.read(in); break;
+                        case "Files": value.Files = PlayFabJson.readList(in, cloudScriptFileAdapter); break;
+                        case "IsPublished": value.IsPublished = PlayFabJson.readBoolean(in); break;
+                        case "Revision": value.Revision = PlayFabJson.readInteger(in); break;
+                        case "Version": value.Version = PlayFabJson.readInteger(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class GetCloudScriptTaskInstanceResultAdapter extends TypeAdapter<GetCloudScriptTaskInstanceResult> {
+        private final TypeAdapter<CloudScriptTaskParameter> cloudScriptTaskParameterAdapter;
+        private final TypeAdapter<CloudScriptTaskSummary> cloudScriptTaskSummaryAdapter;
+
+        private GetCloudScriptTaskInstanceResultAdapter(Gson gson) {
+            cloudScriptTaskParameterAdapter = gson.getAdapter(CloudScriptTaskParameter.class);
+            cloudScriptTaskSummaryAdapter = gson.getAdapter(CloudScriptTaskSummary.class);
+        }
+
+        @Override
+        public void write(JsonWriter out, GetCloudScriptTaskInstanceResult value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            cloudScriptTaskParameterAdapter.write(out.name("Parameter"), value.Parameter);
+            cloudScriptTaskSummaryAdapter.write(out.name("Summary"), value.Summary);
+            out.endObject();
+        }
+
+        @Override
+        public GetCloudScriptTaskInstanceResult read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            GetCloudScriptTaskInstanceResult value = new GetCloudScriptTaskInstanceResult();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "Parameter": value.Parameter = cloudScriptTaskParameterAdapter.read(in); break;
+                        case "Summary": value.Summary = cloudScriptTaskSummaryAdapter.read(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class GetCloudScriptVersionsRequestAdapter extends TypeAdapter<GetCloudScriptVersionsRequest> {
+        private GetCloudScriptVersionsRequestAdapter(Gson gson) {
+        }
+
+        @Override
+        public void write(JsonWriter out, GetCloudScriptVersionsRequest value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.endObject();
+        }
+
+        @Override
+        public GetCloudScriptVersionsRequest read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            GetCloudScriptVersionsRequest value = new GetCloudScriptVersionsRequest();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class GetCloudScriptVersionsResultAdapter extends TypeAdapter<GetCloudScriptVersionsResult> {
+        private final TypeAdapter<CloudScriptVersionStatus> cloudScriptVersionStatusAdapter;
+
+        private GetCloudScriptVersionsResultAdapter(Gson gson) {
+            cloudScriptVersionStatusAdapter = gson.getAdapter(CloudScriptVersionStatus.class);
+        }
+
+        @Override
+        public void write(JsonWriter out, GetCloudScriptVersionsResult value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            PlayFabJson.writeList(out.name("Versions"), value.Versions, cloudScriptVersionStatusAdapter);
+            out.endObject();
+        }
+
+        @Override
+        public GetCloudScriptVersionsResult read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            GetCloudScriptVersionsResult value = new GetCloudScriptVersionsResult();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "Versions": value.Versions = PlayFabJson.readList(in, cloudScriptVersionStatusAdapter); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class GetContentListRequestAdapter extends TypeAdapter<GetContentListRequest> {
+        private GetContentListRequestAdapter(Gson gson) {
+        }
+
+        @Override
+        public void write(JsonWriter out, GetContentListRequest value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.name("Prefix").value(value.Prefix);
+            out.endObject();
+        }
+
+        @Override
+        public GetContentListRequest read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            GetContentListRequest value = new GetContentListRequest();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "Prefix": value.Prefix = PlayFabJson.readString(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class GetContentListResultAdapter extends TypeAdapter<GetContentListResult> {
+        private final TypeAdapter<ContentInfo> contentInfoAdapter;
+
+        private GetContentListResultAdapter(Gson gson) {
+            contentInfoAdapter = gson.getAdapter(ContentInfo.class);
+        }
+
+        @Override
+        public void write(JsonWriter out, GetContentListResult value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            PlayFabJson.writeList(out.name("Contents"), value.Contents, contentInfoAdapter);
+            out.name("ItemCount").value(value.ItemCount);
+            out.name("TotalSize").value(value.TotalSize);
+            out.endObject();
+        }
+
+        @Override
+        public GetContentListResult read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            GetContentListResult value = new GetContentListResult();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "Contents": value.Contents = PlayFabJson.readList(in, contentInfoAdapter); break;
+                        case "ItemCount": value.ItemCount = PlayFabJson.readInteger(in); break;
+                        case "TotalSize": value.TotalSize = PlayFabJson.readLong(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class GetContentUploadUrlRequestAdapter extends TypeAdapter<GetContentUploadUrlRequest> {
+        private GetContentUploadUrlRequestAdapter(Gson gson) {
+        }
+
+        @Override
+        public void write(JsonWriter out, GetContentUploadUrlRequest value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.name("ContentType").value(value.ContentType);
+            out.name("Key").value(value.Key);
+            out.endObject();
+        }
+
+        @Override
+        public GetContentUploadUrlRequest read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            GetContentUploadUrlRequest value = new GetContentUploadUrlRequest();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "ContentType": value.ContentType = PlayFabJson.readString(in); break;
+                        case "Key": value.Key = PlayFabJson.readString(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class GetContentUploadUrlResultAdapter extends TypeAdapter<GetContentUploadUrlResult> {
+        private GetContentUploadUrlResultAdapter(Gson gson) {
+        }
+
+        @Override
+        public void write(JsonWriter out, GetContentUploadUrlResult value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.name("URL").value(value.URL);
+            out.endObject();
+        }
+
+        @Override
+        public GetContentUploadUrlResult read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            GetContentUploadUrlResult value = new GetContentUploadUrlResult();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "URL": value.URL = PlayFabJson.readString(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class GetDataReportRequestAdapter extends TypeAdapter<GetDataReportRequest> {
+        private GetDataReportRequestAdapter(Gson gson) {
+        }
+
+        @Override
+        public void write(JsonWriter out, GetDataReportRequest value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.name("Day").value(value.Day);
+            out.name("Month").value(value.Month);
+            out.name("ReportName").value(value.ReportName);
+            out.name("Year").value(value.Year);
+            out.endObject();
+        }
+
+        @Override
+        public GetDataReportRequest read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            GetDataReportRequest value = new GetDataReportRequest();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "Day": value.Day = PlayFabJson.readInteger(in); break;
+                        case "Month": value.Month = PlayFabJson.readInteger(in); break;
+                        case "ReportName": value.ReportName = PlayFabJson.readString(in); break;
+                        case "Year": value.Year = PlayFabJson.readInteger(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class GetDataReportResultAdapter extends TypeAdapter<GetDataReportResult> {
+        private GetDataReportResultAdapter(Gson gson) {
+        }
+
+        @Override
+        public void write(JsonWriter out, GetDataReportResult value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.name("DownloadUrl").value(value.DownloadUrl);
+            out.endObject();
+        }
+
+        @Override
+        public GetDataReportResult read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            GetDataReportResult value = new GetDataReportResult();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "DownloadUrl": value.DownloadUrl = PlayFabJson.readString(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class GetMatchmakerGameInfoRequestAdapter extends TypeAdapter<GetMatchmakerGameInfoRequest> {
+        private GetMatchmakerGameInfoRequestAdapter(Gson gson) {
+        }
+
+        @Override
+        public void write(JsonWriter out, GetMatchmakerGameInfoRequest value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.name("LobbyId").value(value.LobbyId);
+            out.endObject();
+        }
+
+        @Override
+        public GetMatchmakerGameInfoRequest read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            GetMatchmakerGameInfoRequest value = new GetMatchmakerGameInfoRequest();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "LobbyId": value.LobbyId = PlayFabJson.readString(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class GetMatchmakerGameInfoResultAdapter extends TypeAdapter<GetMatchmakerGameInfoResult> {
+        private final TypeAdapter<Date> dateAdapter;
+        private final TypeAdapter<String> stringAdapter;
+        private final TypeAdapter<Region> regionAdapter;
+
+        private GetMatchmakerGameInfoResultAdapter(Gson gson) {
+            dateAdapter = gson.getAdapter(Date.class);
+            stringAdapter = gson.getAdapter(String.class);
+            regionAdapter = gson.getAdapter(Region.class);
+        }
+
+        @Override
+        public void write(JsonWriter out, GetMatchmakerGameInfoResult value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.name("BuildVersion").value(value.BuildVersion);
+            dateAdapter.write(out.name("EndTime"), value.EndTime);
+            out.name("LobbyId").value(value.LobbyId);
+            out.name("Mode").value(value.Mode);
+            PlayFabJson.writeList(out.name("Players"), value.Players, stringAdapter);
+            regionAdapter.write(out.name("Region"), value.Region);
+            out.name("ServerIPV4Address").value(value.ServerIPV4Address);
+            out.name("ServerIPV6Address").value(value.ServerIPV6Address);
+            out.name("ServerPort").value(value.ServerPort);
+            out.name("ServerPublicDNSName").value(value.ServerPublicDNSName);
+            dateAdapter.write(out.name("StartTime"), value.StartTime);
+            out.name("TitleId").value(value.TitleId);
+            out.endObject();
+        }
+
+        @Override
+        public GetMatchmakerGameInfoResult read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            GetMatchmakerGameInfoResult value = new GetMatchmakerGameInfoResult();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "BuildVersion": value.BuildVersion = PlayFabJson.readString(in); break;
+                        case "EndTime": value.EndTime = dateAdapter.read(in); break;
+                        case "LobbyId": value.LobbyId = PlayFabJson.readString(in); break;
+                        case "Mode": value.Mode = PlayFabJson.readString(in); break;
+                        case "Players": value.Players = PlayFabJson.readList(in, stringAdapter); break;
+                        case "Region": value.Region = regionAdapter.read(in); break;
+                        case "ServerIPV4Address": value.ServerIPV4Address = PlayFabJson.readString(in); break;
+                        case "ServerIPV6Address": value.ServerIPV6Address = PlayFabJson.readString(in); break;
+                        case "ServerPort": value.ServerPort = PlayFabJson.readLong(in); break;
+                        case "ServerPublicDNSName": value.ServerPublicDNSName = PlayFabJson.readString(in); break;
+                        case "StartTime": value.StartTime = dateAdapter.read(in); break;
+                        case "TitleId": value.TitleId = PlayFabJson.readString(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class GetMatchmakerGameModesRequestAdapter extends TypeAdapter<GetMatchmakerGameModesRequest> {
+        private GetMatchmakerGameModesRequestAdapter(Gson gson) {
+        }
+
+        @Override
+        public void write(JsonWriter out, GetMatchmakerGameModesRequest value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.name("BuildVersion").value(value.BuildVersion);
+            out.endObject();
+        }
+
+        @Override
+        public GetMatchmakerGameModesRequest read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            GetMatchmakerGameModesRequest value = new GetMatchmakerGameModesRequest();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "BuildVersion": value.BuildVersion = PlayFabJson.readString(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class GetMatchmakerGameModesResultAdapter extends TypeAdapter<GetMatchmakerGameModesResult> {
+        private final TypeAdapter<GameModeInfo> gameModeInfoAdapter;
+
+        private GetMatchmakerGameModesResultAdapter(Gson gson) {
+            gameModeInfoAdapter = gson.getAdapter(GameModeInfo.class);
+        }
+
+        @Override
+        public void write(JsonWriter out, GetMatchmakerGameModesResult value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            PlayFabJson.writeList(out.name("GameModes"), value.GameModes, gameModeInfoAdapter);
+            out.endObject();
+        }
+
+        @Override
+        public GetMatchmakerGameModesResult read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            GetMatchmakerGameModesResult value = new GetMatchmakerGameModesResult();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "GameModes": value.GameModes = PlayFabJson.readList(in, gameModeInfoAdapter); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class GetPlayedTitleListRequestAdapter extends TypeAdapter<GetPlayedTitleListRequest> {
+        private GetPlayedTitleListRequestAdapter(Gson gson) {
+        }
+
+        @Override
+        public void write(JsonWriter out, GetPlayedTitleListRequest value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.name("PlayFabId").value(value.PlayFabId);
+            out.endObject();
+        }
+
+        @Override
+        public GetPlayedTitleListRequest read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            GetPlayedTitleListRequest value = new GetPlayedTitleListRequest();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "PlayFabId": value.PlayFabId = PlayFabJson.readString(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class GetPlayedTitleListResultAdapter extends TypeAdapter<GetPlayedTitleListResult> {
+        private final TypeAdapter<String> stringAdapter;
+
+        private GetPlayedTitleListResultAdapter(Gson gson) {
+            stringAdapter = gson.getAdapter(String.class);
+        }
+
+        @Override
+        public void write(JsonWriter out, GetPlayedTitleListResult value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            PlayFabJson.writeList(out.name("TitleIds"), value.TitleIds, stringAdapter);
+            out.endObject();
+        }
+
+        @Override
+        public GetPlayedTitleListResult read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            GetPlayedTitleListResult value = new GetPlayedTitleListResult();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "TitleIds": value.TitleIds = PlayFabJson.readList(in, stringAdapter); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class GetPlayerIdFromAuthTokenRequestAdapter extends TypeAdapter<GetPlayerIdFromAuthTokenRequest> {
+        private final TypeAdapter<AuthTokenType> authTokenTypeAdapter;
+
+        private GetPlayerIdFromAuthTokenRequestAdapter(Gson gson) {
+            authTokenTypeAdapter = gson.getAdapter(AuthTokenType.class);
+        }
+
+        @Override
+        public void write(JsonWriter out, GetPlayerIdFromAuthTokenRequest value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.name("Token").value(value.Token);
+            authTokenTypeAdapter.write(out.name("TokenType"), value.TokenType);
+            out.endObject();
+        }
+
+        @Override
+        public GetPlayerIdFromAuthTokenRequest read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            GetPlayerIdFromAuthTokenRequest value = new GetPlayerIdFromAuthTokenRequest();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "Token": value.Token = PlayFabJson.readString(in); break;
+                        case "TokenType": value.TokenType = authTokenTypeAdapter.read(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class GetPlayerIdFromAuthTokenResultAdapter extends TypeAdapter<GetPlayerIdFromAuthTokenResult> {
+        private GetPlayerIdFromAuthTokenResultAdapter(Gson gson) {
+        }
+
+        @Override
+        public void write(JsonWriter out, GetPlayerIdFromAuthTokenResult value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.name("PlayFabId").value(value.PlayFabId);
+            out.endObject();
+        }
+
+        @Override
+        public GetPlayerIdFromAuthTokenResult read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            GetPlayerIdFromAuthTokenResult value = new GetPlayerIdFromAuthTokenResult();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "PlayFabId": value.PlayFabId = PlayFabJson.readString(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class GetPlayerProfileRequestAdapter extends TypeAdapter<GetPlayerProfileRequest> {
+        private final TypeAdapter<String> stringAdapter;
+        private final TypeAdapter<PlayerProfileViewConstraints> playerProfileViewConstraintsAdapter;
+
+        private GetPlayerProfileRequestAdapter(Gson gson) {
+            stringAdapter = gson.getAdapter(String.class);
+            playerProfileViewConstraintsAdapter = gson.getAdapter(PlayerProfileViewConstraints.class);
+        }
+
+        @Override
+        public void write(JsonWriter out, GetPlayerProfileRequest value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            PlayFabJson.writeMap(out.name("CustomTags"), value.CustomTags, stringAdapter);
+            out.name("PlayFabId").value(value.PlayFabId);
+            playerProfileViewConstraintsAdapter.write(out.name("ProfileConstraints"), value.ProfileConstraints);
+            out.endObject();
+        }
+
+        @Override
+        public GetPlayerProfileRequest read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            GetPlayerProfileRequest value = new GetPlayerProfileRequest();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "CustomTags": value.CustomTags = PlayFabJson.readMap(in, stringAdapter); break;
+                        case "PlayFabId": value.PlayFabId = PlayFabJson.readString(in); break;
+                        case "ProfileConstraints": value.ProfileConstraints = playerProfileViewConstraintsAdapter.read(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class GetPlayerProfileResultAdapter extends TypeAdapter<GetPlayerProfileResult> {
+        private final TypeAdapter<PlayerProfileModel> playerProfileModelAdapter;
+
+        private GetPlayerProfileResultAdapter(Gson gson) {
+            playerProfileModelAdapter = gson.getAdapter(PlayerProfileModel.class);
+        }
+
+        @Override
+        public void write(JsonWriter out, GetPlayerProfileResult value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            playerProfileModelAdapter.write(out.name("PlayerProfile"), value.PlayerProfile);
+            out.endObject();
+        }
+
+        @Override
+        public GetPlayerProfileResult read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            GetPlayerProfileResult value = new GetPlayerProfileResult();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "PlayerProfile": value.PlayerProfile = playerProfileModelAdapter.read(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class GetPlayerSegmentsResultAdapter extends TypeAdapter<GetPlayerSegmentsResult> {
+        private final TypeAdapter<GetSegmentResult> getSegmentResultAdapter;
+
+        private GetPlayerSegmentsResultAdapter(Gson gson) {
+            getSegmentResultAdapter = gson.getAdapter(GetSegmentResult.class);
+        }
+
+        @Override
+        public void write(JsonWriter out, GetPlayerSegmentsResult value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            PlayFabJson.writeList(out.name("Segments"), value.Segments, getSegmentResultAdapter);
+            out.endObject();
+        }
+
+        @Override
+        public GetPlayerSegmentsResult read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            GetPlayerSegmentsResult value = new GetPlayerSegmentsResult();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "Segments": value.Segments = PlayFabJson.readList(in, getSegmentResultAdapter); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class GetPlayerSharedSecretsRequestAdapter extends TypeAdapter<GetPlayerSharedSecretsRequest> {
+        private GetPlayerSharedSecretsRequestAdapter(Gson gson) {
+        }
+
+        @Override
+        public void write(JsonWriter out, GetPlayerSharedSecretsRequest value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.endObject();
+        }
+
+        @Override
+        public GetPlayerSharedSecretsRequest read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            GetPlayerSharedSecretsRequest value = new GetPlayerSharedSecretsRequest();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class GetPlayerSharedSecretsResultAdapter extends TypeAdapter<GetPlayerSharedSecretsResult> {
+        private final TypeAdapter<SharedSecret> sharedSecretAdapter;
+
+        private GetPlayerSharedSecretsResultAdapter(Gson gson) {
+            sharedSecretAdapter = gson.getAdapter(SharedSecret.class);
+        }
+
+        @Override
+        public void write(JsonWriter out, GetPlayerSharedSecretsResult value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            PlayFabJson.writeList(out.name("SharedSecrets"), value.SharedSecrets, sharedSecretAdapter);
+            out.endObject();
+        }
+
+        @Override
+        public GetPlayerSharedSecretsResult read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            GetPlayerSharedSecretsResult value = new GetPlayerSharedSecretsResult();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "SharedSecrets": value.SharedSecrets = PlayFabJson.readList(in, sharedSecretAdapter); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class GetPlayersInSegmentRequestAdapter extends TypeAdapter<GetPlayersInSegmentRequest> {
+        private final TypeAdapter<String> stringAdapter;
+
+        private GetPlayersInSegmentRequestAdapter(Gson gson) {
+            stringAdapter = gson.getAdapter(String.class);
+        }
+
+        @Override
+        public void write(JsonWriter out, GetPlayersInSegmentRequest value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.name("ContinuationToken").value(value.ContinuationToken);
+            PlayFabJson.writeMap(out.name("CustomTags"), value.CustomTags, stringAdapter);
+            out.name("MaxBatchSize").value(value.MaxBatchSize);
+            out.name("SecondsToLive").value(value.SecondsToLive);
+            out.name("SegmentId").value(value.SegmentId);
+            out.endObject();
+        }
+
+        @Override
+        public GetPlayersInSegmentRequest read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            GetPlayersInSegmentRequest value = new GetPlayersInSegmentRequest();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "ContinuationToken": value.ContinuationToken = PlayFabJson.readString(in); break;
+                        case "CustomTags": value.CustomTags = PlayFabJson.readMap(in, stringAdapter); break;
+                        case "MaxBatchSize": value.MaxBatchSize = PlayFabJson.readLong(in); break;
+                        case "SecondsToLive": value.SecondsToLive = PlayFabJson.readLong(in); break;
+                        case "SegmentId": value.SegmentId = PlayFabJson.readString(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class GetPlayersInSegmentResultAdapter extends TypeAdapter<GetPlayersInSegmentResult> {
+        private final TypeAdapter<PlayerProfile> playerProfileAdapter;
+
+        private GetPlayersInSegmentResultAdapter(Gson gson) {
+            playerProfileAdapter = gson.getAdapter(PlayerProfile.class);
+        }
+
+        @Override
+        public void write(JsonWriter out, GetPlayersInSegmentResult value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.name("ContinuationToken").value(value.ContinuationToken);
+            PlayFabJson.writeList(out.name("PlayerProfiles"), value.PlayerProfiles, playerProfileAdapter);
+            out.name("ProfilesInSegment").value(value.ProfilesInSegment);
+            out.endObject();
+        }
+
+        @Override
+        public GetPlayersInSegmentResult read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            GetPlayersInSegmentResult value = new GetPlayersInSegmentResult();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "ContinuationToken": value.ContinuationToken = PlayFabJson.readString(in); break;
+                        case "PlayerProfiles": value.PlayerProfiles = PlayFabJson.readList(in, playerProfileAdapter); break;
+                        case "ProfilesInSegment": value.ProfilesInSegment = PlayFabJson.readInteger(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class GetPlayersSegmentsRequestAdapter extends TypeAdapter<GetPlayersSegmentsRequest> {
+        private final TypeAdapter<String> stringAdapter;
+
+        private GetPlayersSegmentsRequestAdapter(Gson gson) {
+            stringAdapter = gson.getAdapter(String.class);
+        }
+
+        @Override
+        public void write(JsonWriter out, GetPlayersSegmentsRequest value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            PlayFabJson.writeMap(out.name("CustomTags"), value.CustomTags, stringAdapter);
+            out.name("PlayFabId").value(value.PlayFabId);
+            out.endObject();
+        }
+
+        @Override
+        public GetPlayersSegmentsRequest read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            GetPlayersSegmentsRequest value = new GetPlayersSegmentsRequest();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "CustomTags": value.CustomTags = PlayFabJson.readMap(in, stringAdapter); break;
+                        case "PlayFabId": value.PlayFabId = PlayFabJson.readString(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class GetPlayerStatisticDefinitionsRequestAdapter extends TypeAdapter<GetPlayerStatisticDefinitionsRequest> {
+        private GetPlayerStatisticDefinitionsRequestAdapter(Gson gson) {
+        }
+
+        @Override
+        public void write(JsonWriter out, GetPlayerStatisticDefinitionsRequest value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.endObject();
+        }
+
+        @Override
+        public GetPlayerStatisticDefinitionsRequest read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            GetPlayerStatisticDefinitionsRequest value = new GetPlayerStatisticDefinitionsRequest();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class GetPlayerStatisticDefinitionsResultAdapter extends TypeAdapter<GetPlayerStatisticDefinitionsResult> {
+        private final TypeAdapter<PlayerStatisticDefinition> playerStatisticDefinitionAdapter;
+
+        private GetPlayerStatisticDefinitionsResultAdapter(Gson gson) {
+            playerStatisticDefinitionAdapter = gson.getAdapter(PlayerStatisticDefinition.class);
+        }
+
+        @Override
+        public void write(JsonWriter out, GetPlayerStatisticDefinitionsResult value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            PlayFabJson.writeList(out.name("Statistics"), value.Statistics, playerStatisticDefinitionAdapter);
+            out.endObject();
+        }
+
+        @Override
+        public GetPlayerStatisticDefinitionsResult read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            GetPlayerStatisticDefinitionsResult value = new GetPlayerStatisticDefinitionsResult();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "Statistics": value.Statistics = PlayFabJson.readList(in, playerStatisticDefinitionAdapter); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class GetPlayerStatisticVersionsRequestAdapter extends TypeAdapter<GetPlayerStatisticVersionsRequest> {
+        private final TypeAdapter<String> stringAdapter;
+
+        private GetPlayerStatisticVersionsRequestAdapter(Gson gson) {
+            stringAdapter = gson.getAdapter(String.class);
+        }
+
+        @Override
+        public void write(JsonWriter out, GetPlayerStatisticVersionsRequest value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            PlayFabJson.writeMap(out.name("CustomTags"), value.CustomTags, stringAdapter);
+            out.name("StatisticName").value(value.StatisticName);
+            out.endObject();
+        }
+
+        @Override
+        public GetPlayerStatisticVersionsRequest read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            GetPlayerStatisticVersionsRequest value = new GetPlayerStatisticVersionsRequest();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "CustomTags": value.CustomTags = PlayFabJson.readMap(in, stringAdapter); break;
+                        case "StatisticName": value.StatisticName = PlayFabJson.readString(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class GetPlayerStatisticVersionsResultAdapter extends TypeAdapter<GetPlayerStatisticVersionsResult> {
+        private final TypeAdapter<PlayerStatisticVersion> playerStatisticVersionAdapter;
+
+        private GetPlayerStatisticVersionsResultAdapter(Gson gson) {
+            playerStatisticVersionAdapter = gson.getAdapter(PlayerStatisticVersion.class);
+        }
+
+        @Override
+        public void write(JsonWriter out, GetPlayerStatisticVersionsResult value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            PlayFabJson.writeList(out.name("StatisticVersions"), value.StatisticVersions, playerStatisticVersionAdapter);
+            out.endObject();
+        }
+
+        @Override
+        public GetPlayerStatisticVersionsResult read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            GetPlayerStatisticVersionsResult value = new GetPlayerStatisticVersionsResult();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "StatisticVersions": value.StatisticVersions = PlayFabJson.readList(in, playerStatisticVersionAdapter); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class GetPlayerTagsRequestAdapter extends TypeAdapter<GetPlayerTagsRequest> {
+        private final TypeAdapter<String> stringAdapter;
+
+        private GetPlayerTagsRequestAdapter(Gson gson) {
+            stringAdapter = gson.getAdapter(String.class);
+        }
+
+        @Override
+        public void write(JsonWriter out, GetPlayerTagsRequest value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            PlayFabJson.writeMap(out.name("CustomTags"), value.CustomTags, stringAdapter);
+            out.name("Namespace").value(value.Namespace);
+            out.name("PlayFabId").value(value.PlayFabId);
+            out.endObject();
+        }
+
+        @Override
+        public GetPlayerTagsRequest read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            GetPlayerTagsRequest value = new GetPlayerTagsRequest();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "CustomTags": value.CustomTags = PlayFabJson.readMap(in, stringAdapter); break;
+                        case "Namespace": value.Namespace = PlayFabJson.readString(in); break;
+                        case "PlayFabId": value.PlayFabId = PlayFabJson.readString(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class GetPlayerTagsResultAdapter extends TypeAdapter<GetPlayerTagsResult> {
+        private final TypeAdapter<String> stringAdapter;
+
+        private GetPlayerTagsResultAdapter(Gson gson) {
+            stringAdapter = gson.getAdapter(String.class);
+        }
+
+        @Override
+        public void write(JsonWriter out, GetPlayerTagsResult value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.name("PlayFabId").value(value.PlayFabId);
+            PlayFabJson.writeList(out.name("Tags"), value.Tags, stringAdapter);
+            out.endObject();
+        }
+
+        @Override
+        public GetPlayerTagsResult read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            GetPlayerTagsResult value = new GetPlayerTagsResult();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "PlayFabId": value.PlayFabId = PlayFabJson.readString(in); break;
+                        case "Tags": value.Tags = PlayFabJson.readList(in, stringAdapter); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class GetPolicyRequestAdapter extends TypeAdapter<GetPolicyRequest> {
+        private GetPolicyRequestAdapter(Gson gson) {
+        }
+
+        @Override
+        public void write(JsonWriter out, GetPolicyRequest value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.name("PolicyName").value(value.PolicyName);
+            out.endObject();
+        }
+
+        @Override
+        public GetPolicyRequest read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            GetPolicyRequest value = new GetPolicyRequest();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "PolicyName": value.PolicyName = PlayFabJson.readString(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class GetPolicyResponseAdapter extends TypeAdapter<GetPolicyResponse> {
+        private final TypeAdapter<PermissionStatement> permissionStatementAdapter;
+
+        private GetPolicyResponseAdapter(Gson gson) {
+            permissionStatementAdapter = gson.getAdapter(PermissionStatement.class);
+        }
+
+        @Override
+        public void write(JsonWriter out, GetPolicyResponse value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.name("PolicyName").value(value.PolicyName);
+            out.name("PolicyVersion").value(value.PolicyVersion);
+            PlayFabJson.writeList(out.name("Statements"), value.Statements, permissionStatementAdapter);
+            out.endObject();
+        }
+
+        @Override
+        public GetPolicyResponse read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            GetPolicyResponse value = new GetPolicyResponse();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "PolicyName": value.PolicyName = PlayFabJson.readString(in); break;
+                        case "PolicyVersion": value.PolicyVersion = PlayFabJson.readInteger(in); break;
+                        case "Statements": value.Statements = PlayFabJson.readList(in, permissionStatementAdapter); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class GetPublisherDataRequestAdapter extends TypeAdapter<GetPublisherDataRequest> {
+        private final TypeAdapter<String> stringAdapter;
+
+        private GetPublisherDataRequestAdapter(Gson gson) {
+            stringAdapter = gson.getAdapter(String.class);
+        }
+
+        @Override
+        public void write(JsonWriter out, GetPublisherDataRequest value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            PlayFabJson.writeList(out.name("Keys"), value.Keys, stringAdapter);
+            out.endObject();
+        }
+
+        @Override
+        public GetPublisherDataRequest read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            GetPublisherDataRequest value = new GetPublisherDataRequest();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "Keys": value.Keys = PlayFabJson.readList(in, stringAdapter); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class GetPublisherDataResultAdapter extends TypeAdapter<GetPublisherDataResult> {
+        private final TypeAdapter<String> stringAdapter;
+
+        private GetPublisherDataResultAdapter(Gson gson) {
+            stringAdapter = gson.getAdapter(String.class);
+        }
+
+        @Override
+        public void write(JsonWriter out, GetPublisherDataResult value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            PlayFabJson.writeMap(out.name("Data"), value.Data, stringAdapter);
+            out.endObject();
+        }
+
+        @Override
+        public GetPublisherDataResult read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            GetPublisherDataResult value = new GetPublisherDataResult();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "Data": value.Data = PlayFabJson.readMap(in, stringAdapter); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class GetRandomResultTablesRequestAdapter extends TypeAdapter<GetRandomResultTablesRequest> {
+        private GetRandomResultTablesRequestAdapter(Gson gson) {
+        }
+
+        @Override
+        public void write(JsonWriter out, GetRandomResultTablesRequest value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.name("CatalogVersion").value(value.CatalogVersion);
+            out.endObject();
+        }
+
+        @Override
+        public GetRandomResultTablesRequest read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            GetRandomResultTablesRequest value = new GetRandomResultTablesRequest();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "CatalogVersion": value.CatalogVersion = PlayFabJson.readString(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class GetRandomResultTablesResultAdapter extends TypeAdapter<GetRandomResultTablesResult> {
+        private final TypeAdapter<RandomResultTableListing> randomResultTableListingAdapter;
+
+        private GetRandomResultTablesResultAdapter(Gson gson) {
+            randomResultTableListingAdapter = gson.getAdapter(RandomResultTableListing.class);
+        }
+
+        @Override
+        public void write(JsonWriter out, GetRandomResultTablesResult value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            PlayFabJson.writeMap(out.name("Tables"), value.Tables, randomResultTableListingAdapter);
+            out.endObject();
+        }
+
+        @Override
+        public GetRandomResultTablesResult read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            GetRandomResultTablesResult value = new GetRandomResultTablesResult();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "Tables": value.Tables = PlayFabJson.readMap(in, randomResultTableListingAdapter); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class GetSegmentResultAdapter extends TypeAdapter<GetSegmentResult> {
+        private GetSegmentResultAdapter(Gson gson) {
+        }
+
+        @Override
+        public void write(JsonWriter out, GetSegmentResult value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.name("ABTestParent").value(value.ABTestParent);
+            out.name("Id").value(value.Id);
+            out.name("Name").value(value.Name);
+            out.endObject();
+        }
+
+        @Override
+        public GetSegmentResult read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            GetSegmentResult value = new GetSegmentResult();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "ABTestParent": value.ABTestParent = PlayFabJson.readString(in); break;
+                        case "Id": value.Id = PlayFabJson.readString(in); break;
+                        case "Name": value.Name = PlayFabJson.readString(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class GetSegmentsRequestAdapter extends TypeAdapter<GetSegmentsRequest> {
+        private final TypeAdapter<String> stringAdapter;
+
+        private GetSegmentsRequestAdapter(Gson gson) {
+            stringAdapter = gson.getAdapter(String.class);
+        }
+
+        @Override
+        public void write(JsonWriter out, GetSegmentsRequest value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            PlayFabJson.writeList(out.name("SegmentIds"), value.SegmentIds, stringAdapter);
+            out.endObject();
+        }
+
+        @Override
+        public GetSegmentsRequest read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            GetSegmentsRequest value = new GetSegmentsRequest();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "SegmentIds": value.SegmentIds = PlayFabJson.readList(in, stringAdapter); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class GetSegmentsResponseAdapter extends TypeAdapter<GetSegmentsResponse> {
+        private final TypeAdapter<SegmentModel> segmentModelAdapter;
+
+        private GetSegmentsResponseAdapter(Gson gson) {
+            segmentModelAdapter = gson.getAdapter(SegmentModel.class);
+        }
+
+        @Override
+        public void write(JsonWriter out, GetSegmentsResponse value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.name("ErrorMessage").value(value.ErrorMessage);
+            PlayFabJson.writeList(out.name("Segments"), value.Segments, segmentModelAdapter);
+            out.endObject();
+        }
+
+        @Override
+        public GetSegmentsResponse read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            GetSegmentsResponse value = new GetSegmentsResponse();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "ErrorMessage": value.ErrorMessage = PlayFabJson.readString(in); break;
+                        case "Segments": value.Segments = PlayFabJson.readList(in, segmentModelAdapter); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class GetServerBuildInfoRequestAdapter extends TypeAdapter<GetServerBuildInfoRequest> {
+        private GetServerBuildInfoRequestAdapter(Gson gson) {
+        }
+
+        @Override
+        public void write(JsonWriter out, GetServerBuildInfoRequest value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.name("BuildId").value(value.BuildId);
+            out.endObject();
+        }
+
+        @Override
+        public GetServerBuildInfoRequest read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            GetServerBuildInfoRequest value = new GetServerBuildInfoRequest();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "BuildId": value.BuildId = PlayFabJson.readString(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class GetServerBuildInfoResultAdapter extends TypeAdapter<GetServerBuildInfoResult> {
+        private final TypeAdapter<Region> regionAdapter;
+        private final TypeAdapter<GameBuildStatus> gameBuildStatusAdapter;
+        private final TypeAdapter<Date> dateAdapter;
+
+        private GetServerBuildInfoResultAdapter(Gson gson) {
+            regionAdapter = gson.getAdapter(Region.class);
+            gameBuildStatusAdapter = gson.getAdapter(GameBuildStatus.class);
+            dateAdapter = gson.getAdapter(Date.class);
+        }
+
+        @Override
+        public void write(JsonWriter out, GetServerBuildInfoResult value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            PlayFabJson.writeList(out.name("ActiveRegions"), value.ActiveRegions, regionAdapter);
+            out.name("BuildId").value(value.BuildId);
+            out.name("Comment").value(value.Comment);
+            out.name("ErrorMessage").value(value.ErrorMessage);
+            out.name("MaxGamesPerHost").value(value.MaxGamesPerHost);
+            out.name("MinFreeGameSlots").value(value.MinFreeGameSlots);
+            gameBuildStatusAdapter.write(out.name("Status"), value.Status);
+            dateAdapter.write(out.name("Timestamp"), value.Timestamp);
+            out.name("TitleId").value(value.TitleId);
+            out.endObject();
+        }
+
+        @Override
+        public GetServerBuildInfoResult read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            GetServerBuildInfoResult value = new GetServerBuildInfoResult();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "ActiveRegions": value.ActiveRegions = PlayFabJson.readList(in, regionAdapter); break;
+                        case "BuildId": value.BuildId = PlayFabJson.readString(in); break;
+                        case "Comment": value.Comment = PlayFabJson.readString(in); break;
+                        case "ErrorMessage": value.ErrorMessage = PlayFabJson.readString(in); break;
+                        case "MaxGamesPerHost": value.MaxGamesPerHost = PlayFabJson.readInteger(in); break;
+                        case "MinFreeGameSlots": value.MinFreeGameSlots = PlayFabJson.readInteger(in); break;
+                        case "Status": value.Status = gameBuildStatusAdapter.read(in); break;
+                        case "Timestamp": value.Timestamp = dateAdapter.read(in); break;
+                        case "TitleId": value.TitleId = PlayFabJson.readString(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class GetServerBuildUploadURLRequestAdapter extends TypeAdapter<GetServerBuildUploadURLRequest> {
+        private GetServerBuildUploadURLRequestAdapter(Gson gson) {
+        }
+
+        @Override
+        public void write(JsonWriter out, GetServerBuildUploadURLRequest value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.name("BuildId").value(value.BuildId);
+            out.endObject();
+        }
+
+        @Override
+        public GetServerBuildUploadURLRequest read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            GetServerBuildUploadURLRequest value = new GetServerBuildUploadURLRequest();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "BuildId": value.BuildId = PlayFabJson.readString(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class GetServerBuildUploadURLResultAdapter extends TypeAdapter<GetServerBuildUploadURLResult> {
+        private GetServerBuildUploadURLResultAdapter(Gson gson) {
+        }
+
+        @Override
+        public void write(JsonWriter out, GetServerBuildUploadURLResult value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.name("URL").value(value.URL);
+            out.endObject();
+        }
+
+        @Override
+        public GetServerBuildUploadURLResult read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            GetServerBuildUploadURLResult value = new GetServerBuildUploadURLResult();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "URL": value.URL = PlayFabJson.readString(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class GetStoreItemsRequestAdapter extends TypeAdapter<GetStoreItemsRequest> {
+        private GetStoreItemsRequestAdapter(Gson gson) {
+        }
+
+        @Override
+        public void write(JsonWriter out, GetStoreItemsRequest value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.name("CatalogVersion").value(value.CatalogVersion);
+            out.name("StoreId").value(value.StoreId);
+            out.endObject();
+        }
+
+        @Override
+        public GetStoreItemsRequest read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            GetStoreItemsRequest value = new GetStoreItemsRequest();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "CatalogVersion": value.CatalogVersion = PlayFabJson.readString(in); break;
+                        case "StoreId": value.StoreId = PlayFabJson.readString(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class GetStoreItemsResultAdapter extends TypeAdapter<GetStoreItemsResult> {
+        private final TypeAdapter<StoreMarketingModel> storeMarketingModelAdapter;
+        private final TypeAdapter<SourceType> sourceTypeAdapter;
+        private final TypeAdapter<StoreItem> storeItemAdapter;
+
+        private GetStoreItemsResultAdapter(Gson gson) {
+            storeMarketingModelAdapter = gson.getAdapter(StoreMarketingModel.class);
+            sourceTypeAdapter = gson.getAdapter(SourceType.class);
+            storeItemAdapter = gson.getAdapter(StoreItem.class);
+        }
+
+        @Override
+        public void write(JsonWriter out, GetStoreItemsResult value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.name("CatalogVersion").value(value.CatalogVersion);
+            storeMarketingModelAdapter.write(out.name("MarketingData"), value.MarketingData);
+            sourceTypeAdapter.write(out.name("Source"), value.Source);
+            PlayFabJson.writeList(out.name("Store"), value.Store, storeItemAdapter);
+            out.name("StoreId").value(value.StoreId);
+            out.endObject();
+        }
+
+        @Override
+        public GetStoreItemsResult read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            GetStoreItemsResult value = new GetStoreItemsResult();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "CatalogVersion": value.CatalogVersion = PlayFabJson.readString(in); break;
+                        case "MarketingData": value.MarketingData = storeMarketingModelAdapter.read(in); break;
+                        case "Source": value.Source = sourceTypeAdapter.read(in); break;
+                        case "Store": value.Store = PlayFabJson.readList(in, storeItemAdapter); break;
+                        case "StoreId": value.StoreId = PlayFabJson.readString(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class GetTaskInstanceRequestAdapter extends TypeAdapter<GetTaskInstanceRequest> {
+        private GetTaskInstanceRequestAdapter(Gson gson) {
+        }
+
+        @Override
+        public void write(JsonWriter out, GetTaskInstanceRequest value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.name("TaskInstanceId").value(value.TaskInstanceId);
+            out.endObject();
+        }
+
+        @Override
+        public GetTaskInstanceRequest read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            GetTaskInstanceRequest value = new GetTaskInstanceRequest();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "TaskInstanceId": value.TaskInstanceId = PlayFabJson.readString(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class GetTaskInstancesRequestAdapter extends TypeAdapter<GetTaskInstancesRequest> {
+        private final TypeAdapter<Date> dateAdapter;
+        private final TypeAdapter<TaskInstanceStatus> taskInstanceStatusAdapter;
+        private final TypeAdapter<NameIdentifier> nameIdentifierAdapter;
+
+        private GetTaskInstancesRequestAdapter(Gson gson) {
+            dateAdapter = gson.getAdapter(Date.class);
+            taskInstanceStatusAdapter = gson.getAdapter(TaskInstanceStatus.class);
+            nameIdentifierAdapter = gson.getAdapter(NameIdentifier.class);
+        }
+
+        @Override
+        public void write(JsonWriter out, GetTaskInstancesRequest value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            dateAdapter.write(out.name("StartedAtRangeFrom"), value.StartedAtRangeFrom);
+            dateAdapter.write(out.name("StartedAtRangeTo"), value.StartedAtRangeTo);
+            taskInstanceStatusAdapter.write(out.name("StatusFilter"), value.StatusFilter);
+            nameIdentifierAdapter.write(out.name("TaskIdentifier"), value.TaskIdentifier);
+            out.endObject();
+        }
+
+        @Override
+        public GetTaskInstancesRequest read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            GetTaskInstancesRequest value = new GetTaskInstancesRequest();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "StartedAtRangeFrom": value.StartedAtRangeFrom = dateAdapter.read(in); break;
+                        case "StartedAtRangeTo": value.StartedAtRangeTo = dateAdapter.read(in); break;
+                        case "StatusFilter": value.StatusFilter = taskInstanceStatusAdapter.read(in); break;
+                        case "TaskIdentifier": value.TaskIdentifier = nameIdentifierAdapter.read(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class GetTaskInstancesResultAdapter extends TypeAdapter<GetTaskInstancesResult> {
+        private final TypeAdapter<TaskInstanceBasicSummary> taskInstanceBasicSummaryAdapter;
+
+        private GetTaskInstancesResultAdapter(Gson gson) {
+            taskInstanceBasicSummaryAdapter = gson.getAdapter(TaskInstanceBasicSummary.class);
+        }
+
+        @Override
+        public void write(JsonWriter out, GetTaskInstancesResult value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            PlayFabJson.writeList(out.name("Summaries"), value.Summaries, taskInstanceBasicSummaryAdapter);
+            out.endObject();
+        }
+
+        @Override
+        public GetTaskInstancesResult read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            GetTaskInstancesResult value = new GetTaskInstancesResult();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "Summaries": value.Summaries = PlayFabJson.readList(in, taskInstanceBasicSummaryAdapter); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class GetTasksRequestAdapter extends TypeAdapter<GetTasksRequest> {
+        private final TypeAdapter<NameIdentifier> nameIdentifierAdapter;
+
+        private GetTasksRequestAdapter(Gson gson) {
+            nameIdentifierAdapter = gson.getAdapter(NameIdentifier.class);
+        }
+
+        @Override
+        public void write(JsonWriter out, GetTasksRequest value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            nameIdentifierAdapter.write(out.name("Identifier"), value.Identifier);
+            out.endObject();
+        }
+
+        @Override
+        public GetTasksRequest read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            GetTasksRequest value = new GetTasksRequest();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "Identifier": value.Identifier = nameIdentifierAdapter.read(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class GetTasksResultAdapter extends TypeAdapter<GetTasksResult> {
+        private final TypeAdapter<ScheduledTask> scheduledTaskAdapter;
+
+        private GetTasksResultAdapter(Gson gson) {
+            scheduledTaskAdapter = gson.getAdapter(ScheduledTask.class);
+        }
+
+        @Override
+        public void write(JsonWriter out, GetTasksResult value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            PlayFabJson.writeList(out.name("Tasks"), value.Tasks, scheduledTaskAdapter);
+            out.endObject();
+        }
+
+        @Override
+        public GetTasksResult read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            GetTasksResult value = new GetTasksResult();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "Tasks": value.Tasks = PlayFabJson.readList(in, scheduledTaskAdapter); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class GetTitleDataRequestAdapter extends TypeAdapter<GetTitleDataRequest> {
+        private final TypeAdapter<String> stringAdapter;
+
+        private GetTitleDataRequestAdapter(Gson gson) {
+            stringAdapter = gson.getAdapter(String.class);
+        }
+
+        @Override
+        public void write(JsonWriter out, GetTitleDataRequest value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            PlayFabJson.writeList(out.name("Keys"), value.Keys, stringAdapter);
+            out.name("OverrideLabel").value(value.OverrideLabel);
+            out.endObject();
+        }
+
+        @Override
+        public GetTitleDataRequest read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            GetTitleDataRequest value = new GetTitleDataRequest();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "Keys": value.Keys = PlayFabJson.readList(in, stringAdapter); break;
+                        case "OverrideLabel": value.OverrideLabel = PlayFabJson.readString(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class GetTitleDataResultAdapter extends TypeAdapter<GetTitleDataResult> {
+        private final TypeAdapter<String> stringAdapter;
+
+        private GetTitleDataResultAdapter(Gson gson) {
+            stringAdapter = gson.getAdapter(String.class);
+        }
+
+        @Override
+        public void write(JsonWriter out, GetTitleDataResult value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            PlayFabJson.writeMap(out.name("Data"), value.Data, stringAdapter);
+            out.endObject();
+        }
+
+        @Override
+        public GetTitleDataResult read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            GetTitleDataResult value = new GetTitleDataResult();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "Data": value.Data = PlayFabJson.readMap(in, stringAdapter); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class GetUserBansRequestAdapter extends TypeAdapter<GetUserBansRequest> {
+        private GetUserBansRequestAdapter(Gson gson) {
+        }
+
+        @Override
+        public void write(JsonWriter out, GetUserBansRequest value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.name("PlayFabId").value(value.PlayFabId);
+            out.endObject();
+        }
+
+        @Override
+        public GetUserBansRequest read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            GetUserBansRequest value = new GetUserBansRequest();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "PlayFabId": value.PlayFabId = PlayFabJson.readString(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class GetUserBansResultAdapter extends TypeAdapter<GetUserBansResult> {
+        private final TypeAdapter<BanInfo> banInfoAdapter;
+
+        private GetUserBansResultAdapter(Gson gson) {
+            banInfoAdapter = gson.getAdapter(BanInfo.class);
+        }
+
+        @Override
+        public void write(JsonWriter out, GetUserBansResult value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            PlayFabJson.writeList(out.name("BanData"), value.BanData, banInfoAdapter);
+            out.endObject();
+        }
+
+        @Override
+        public GetUserBansResult read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            GetUserBansResult value = new GetUserBansResult();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "BanData": value.BanData = PlayFabJson.readList(in, banInfoAdapter); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class GetUserDataRequestAdapter extends TypeAdapter<GetUserDataRequest> {
+        private final TypeAdapter<String> stringAdapter;
+
+        private GetUserDataRequestAdapter(Gson gson) {
+            stringAdapter = gson.getAdapter(String.class);
+        }
+
+        @Override
+        public void write(JsonWriter out, GetUserDataRequest value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.name("IfChangedFromDataVersion").value(value.IfChangedFromDataVersion);
+            PlayFabJson.writeList(out.name("Keys"), value.Keys, stringAdapter);
+            out.name("PlayFabId").value(value.PlayFabId);
+            out.endObject();
+        }
+
+        @Override
+        public GetUserDataRequest read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            GetUserDataRequest value = new GetUserDataRequest();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "IfChangedFromDataVersion": value.IfChangedFromDataVersion = PlayFabJson.readLong(in); break;
+                        case "Keys": value.Keys = PlayFabJson.readList(in, stringAdapter); break;
+                        case "PlayFabId": value.PlayFabId = PlayFabJson.readString(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class GetUserDataResultAdapter extends TypeAdapter<GetUserDataResult> {
+        private final TypeAdapter<UserDataRecord> userDataRecordAdapter;
+
+        private GetUserDataResultAdapter(Gson gson) {
+            userDataRecordAdapter = gson.getAdapter(UserDataRecord.class);
+        }
+
+        @Override
+        public void write(JsonWriter out, GetUserDataResult value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            PlayFabJson.writeMap(out.name("Data"), value.Data, userDataRecordAdapter);
+            out.name("DataVersion").value(value.DataVersion);
+            out.name("PlayFabId").value(value.PlayFabId);
+            out.endObject();
+        }
+
+        @Override
+        public GetUserDataResult read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            GetUserDataResult value = new GetUserDataResult();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "Data": value.Data = PlayFabJson.readMap(in, userDataRecordAdapter); break;
+                        case "DataVersion": value.DataVersion = PlayFabJson.readLong(in); break;
+                        case "PlayFabId": value.PlayFabId = PlayFabJson.readString(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class GetUserInventoryRequestAdapter extends TypeAdapter<GetUserInventoryRequest> {
+        private final TypeAdapter<String> stringAdapter;
+
+        private GetUserInventoryRequestAdapter(Gson gson) {
+            stringAdapter = gson.getAdapter(String.class);
+        }
+
+        @Override
+        public void write(JsonWriter out, GetUserInventoryRequest value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            PlayFabJson.writeMap(out.name("CustomTags"), value.CustomTags, stringAdapter);
+            out.name("PlayFabId").value(value.PlayFabId);
+            out.endObject();
+        }
+
+        @Override
+        public GetUserInventoryRequest read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            GetUserInventoryRequest value = new GetUserInventoryRequest();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "CustomTags": value.CustomTags = PlayFabJson.readMap(in, stringAdapter); break;
+                        case "PlayFabId": value.PlayFabId = PlayFabJson.readString(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class GetUserInventoryResultAdapter extends TypeAdapter<GetUserInventoryResult> {
+        private final TypeAdapter<ItemInstance> itemInstanceAdapter;
+        private final TypeAdapter<Integer> integerAdapter;
+        private final TypeAdapter<VirtualCurrencyRechargeTime> virtualCurrencyRechargeTimeAdapter;
+
+        private GetUserInventoryResultAdapter(Gson gson) {
+            itemInstanceAdapter = gson.getAdapter(ItemInstance.class);
+            integerAdapter = gson.getAdapter(Integer.class);
+            virtualCurrencyRechargeTimeAdapter = gson.getAdapter(VirtualCurrencyRechargeTime.class);
+        }
+
+        @Override
+        public void write(JsonWriter out, GetUserInventoryResult value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            PlayFabJson.writeList(out.name("Inventory"), value.Inventory, itemInstanceAdapter);
+            out.name("PlayFabId").value(value.PlayFabId);
+            PlayFabJson.writeMap(out.name("VirtualCurrency"), value.VirtualCurrency, integerAdapter);
+            PlayFabJson.writeMap(out.name("VirtualCurrencyRechargeTimes"), value.VirtualCurrencyRechargeTimes, virtualCurrencyRechargeTimeAdapter);
+            out.endObject();
+        }
+
+        @Override
+        public GetUserInventoryResult read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            GetUserInventoryResult value = new GetUserInventoryResult();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "Inventory": value.Inventory = PlayFabJson.readList(in, itemInstanceAdapter); break;
+                        case "PlayFabId": value.PlayFabId = PlayFabJson.readString(in); break;
+                        case "VirtualCurrency": value.VirtualCurrency = PlayFabJson.readMap(in, integerAdapter); break;
+                        case "VirtualCurrencyRechargeTimes": value.VirtualCurrencyRechargeTimes = PlayFabJson.readMap(in, virtualCurrencyRechargeTimeAdapter); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class GrantedItemInstanceAdapter extends TypeAdapter<GrantedItemInstance> {
+        private final TypeAdapter<String> stringAdapter;
+        private final TypeAdapter<Date> dateAdapter;
+
+        private GrantedItemInstanceAdapter(Gson gson) {
+            stringAdapter = gson.getAdapter(String.class);
+            dateAdapter = gson.getAdapter(Date.class);
+        }
+
+        @Override
+        public void write(JsonWriter out, GrantedItemInstance value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.name("Annotation").value(value.Annotation);
+            PlayFabJson.writeList(out.name("BundleContents"), value.BundleContents, stringAdapter);
+            out.name("BundleParent").value(value.BundleParent);
+            out.name("CatalogVersion").value(value.CatalogVersion);
+            out.name("CharacterId").value(value.CharacterId);
+            PlayFabJson.writeMap(out.name("CustomData"), value.CustomData, stringAdapter);
+            out.name("DisplayName").value(value.DisplayName);
+            dateAdapter.write(out.name("Expiration"), value.Expiration);
+            out.name("ItemClass").value(value.ItemClass);
+            out.name("ItemId").value(value.ItemId);
+            out.name("ItemInstanceId").value(value.ItemInstanceId);
+            out.name("PlayFabId").value(value.PlayFabId);
+            dateAdapter.write(out.name("PurchaseDate"), value.PurchaseDate);
+            out.name("RemainingUses").value(value.RemainingUses);
+            out.name("Result").value(value.Result);
+            out.name("UnitCurrency").value(value.UnitCurrency);
+            out.name("UnitPrice").value(value.UnitPrice);
+            out.name("UsesIncrementedBy").value(value.UsesIncrementedBy);
+            out.endObject();
+        }
+
+        @Override
+        public GrantedItemInstance read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            GrantedItemInstance value = new GrantedItemInstance();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "Annotation": value.Annotation = PlayFabJson.readString(in); break;
+                        case "BundleContents": value.BundleContents = PlayFabJson.readList(in, stringAdapter); break;
+                        case "BundleParent": value.BundleParent = PlayFabJson.readString(in); break;
+                        case "CatalogVersion": value.CatalogVersion = PlayFabJson.readString(in); break;
+                        case "CharacterId": value.CharacterId = PlayFabJson.readString(in); break;
+                        case "CustomData": value.CustomData = PlayFabJson.readMap(in, stringAdapter); break;
+                        case "DisplayName": value.DisplayName = PlayFabJson.readString(in); break;
+                        case "Expiration": value.Expiration = dateAdapter.read(in); break;
+                        case "ItemClass": value.ItemClass = PlayFabJson.readString(in); break;
+                        case "ItemId": value.ItemId = PlayFabJson.readString(in); break;
+                        case "ItemInstanceId": value.ItemInstanceId = PlayFabJson.readString(in); break;
+                        case "PlayFabId": value.PlayFabId = PlayFabJson.readString(in); break;
+                        case "PurchaseDate": value.PurchaseDate = dateAdapter.read(in); break;
+                        case "RemainingUses": value.RemainingUses = PlayFabJson.readInteger(in); break;
+                        case "Result": value.Result = PlayFabJson.readBoolean(in); break;
+                        case "UnitCurrency": value.UnitCurrency = PlayFabJson.readString(in); break;
+                        case "UnitPrice": value.UnitPrice = PlayFabJson.readLong(in); break;
+                        case "UsesIncrementedBy": value.UsesIncrementedBy = PlayFabJson.readInteger(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class GrantItemSegmentActionAdapter extends TypeAdapter<GrantItemSegmentAction> {
+        private GrantItemSegmentActionAdapter(Gson gson) {
+        }
+
+        @Override
+        public void write(JsonWriter out, GrantItemSegmentAction value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.name("CatelogId").value(value.CatelogId);
+            out.name("ItemId").value(value.ItemId);
+            out.name("Quantity").value(value.Quantity);
+            out.endObject();
+        }
+
+        @Override
+        public GrantItemSegmentAction read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            GrantItemSegmentAction value = new GrantItemSegmentAction();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "CatelogId": value.CatelogId = PlayFabJson.readString(in); break;
+                        case "ItemId": value.ItemId = PlayFabJson.readString(in); break;
+                        case "Quantity": value.Quantity = PlayFabJson.readLong(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class GrantItemsToUsersRequestAdapter extends TypeAdapter<GrantItemsToUsersRequest> {
+        private final TypeAdapter<String> stringAdapter;
+        private final TypeAdapter<ItemGrant> itemGrantAdapter;
+
+        private GrantItemsToUsersRequestAdapter(Gson gson) {
+            stringAdapter = gson.getAdapter(String.class);
+            itemGrantAdapter = gson.getAdapter(ItemGrant.class);
+        }
+
+        @Override
+        public void write(JsonWriter out, GrantItemsToUsersRequest value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.name("CatalogVersion").value(value.CatalogVersion);
+            PlayFabJson.writeMap(out.name("CustomTags"), value.CustomTags, stringAdapter);
+            PlayFabJson.writeList(out.name("ItemGrants"), value.ItemGrants, itemGrantAdapter);
+            out.endObject();
+        }
+
+        @Override
+        public GrantItemsToUsersRequest read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            GrantItemsToUsersRequest value = new GrantItemsToUsersRequest();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "CatalogVersion": value.CatalogVersion = PlayFabJson.readString(in); break;
+                        case "CustomTags": value.CustomTags = PlayFabJson.readMap(in, stringAdapter); break;
+                        case "ItemGrants": value.ItemGrants = PlayFabJson.readList(in, itemGrantAdapter); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class GrantItemsToUsersResultAdapter extends TypeAdapter<GrantItemsToUsersResult> {
+        private final TypeAdapter<GrantedItemInstance> grantedItemInstanceAdapter;
+
+        private GrantItemsToUsersResultAdapter(Gson gson) {
+            grantedItemInstanceAdapter = gson.getAdapter(GrantedItemInstance.class);
+        }
+
+        @Override
+        public void write(JsonWriter out, GrantItemsToUsersResult value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            PlayFabJson.writeList(out.name("ItemGrantResults"), value.ItemGrantResults, grantedItemInstanceAdapter);
+            out.endObject();
+        }
+
+        @Override
+        public GrantItemsToUsersResult read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            GrantItemsToUsersResult value = new GrantItemsToUsersResult();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "ItemGrantResults": value.ItemGrantResults = PlayFabJson.readList(in, grantedItemInstanceAdapter); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class GrantVirtualCurrencySegmentActionAdapter extends TypeAdapter<GrantVirtualCurrencySegmentAction> {
+        private GrantVirtualCurrencySegmentActionAdapter(Gson gson) {
+        }
+
+        @Override
+        public void write(JsonWriter out, GrantVirtualCurrencySegmentAction value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.name("Amount").value(value.Amount);
+            out.name("CurrencyCode").value(value.CurrencyCode);
+            out.endObject();
+        }
+
+        @Override
+        public GrantVirtualCurrencySegmentAction read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            GrantVirtualCurrencySegmentAction value = new GrantVirtualCurrencySegmentAction();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "Amount": value.Amount = PlayFabJson.readInteger(in); break;
+                        case "CurrencyCode": value.CurrencyCode = PlayFabJson.readString(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class IncrementLimitedEditionItemAvailabilityRequestAdapter extends TypeAdapter<IncrementLimitedEditionItemAvailabilityRequest> {
+        private final TypeAdapter<String> stringAdapter;
+
+        private IncrementLimitedEditionItemAvailabilityRequestAdapter(Gson gson) {
+            stringAdapter = gson.getAdapter(String.class);
+        }
+
+        @Override
+        public void write(JsonWriter out, IncrementLimitedEditionItemAvailabilityRequest value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.name("Amount").value(value.Amount);
+            out.name("CatalogVersion").value(value.CatalogVersion);
+            PlayFabJson.writeMap(out.name("CustomTags"), value.CustomTags, stringAdapter);
+            out.name("ItemId").value(value.ItemId);
+            out.endObject();
+        }
+
+        @Override
+        public IncrementLimitedEditionItemAvailabilityRequest read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            IncrementLimitedEditionItemAvailabilityRequest value = new IncrementLimitedEditionItemAvailabilityRequest();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "Amount": value.Amount = PlayFabJson.readInteger(in); break;
+                        case "CatalogVersion": value.CatalogVersion = PlayFabJson.readString(in); break;
+                        case "CustomTags": value.CustomTags = PlayFabJson.readMap(in, stringAdapter); break;
+                        case "ItemId": value.ItemId = PlayFabJson.readString(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class IncrementLimitedEditionItemAvailabilityResultAdapter extends TypeAdapter<IncrementLimitedEditionItemAvailabilityResult> {
+        private IncrementLimitedEditionItemAvailabilityResultAdapter(Gson gson) {
+        }
+
+        @Override
+        public void write(JsonWriter out, IncrementLimitedEditionItemAvailabilityResult value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.endObject();
+        }
+
+        @Override
+        public IncrementLimitedEditionItemAvailabilityResult read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            IncrementLimitedEditionItemAvailabilityResult value = new IncrementLimitedEditionItemAvailabilityResult();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class IncrementPlayerStatisticSegmentActionAdapter extends TypeAdapter<IncrementPlayerStatisticSegmentAction> {
+        private IncrementPlayerStatisticSegmentActionAdapter(Gson gson) {
+        }
+
+        @Override
+        public void write(JsonWriter out, IncrementPlayerStatisticSegmentAction value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.name("IncrementValue").value(value.IncrementValue);
+            out.name("StatisticName").value(value.StatisticName);
+            out.endObject();
+        }
+
+        @Override
+        public IncrementPlayerStatisticSegmentAction read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            IncrementPlayerStatisticSegmentAction value = new IncrementPlayerStatisticSegmentAction();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "IncrementValue": value.IncrementValue = PlayFabJson.readInteger(in); break;
+                        case "StatisticName": value.StatisticName = PlayFabJson.readString(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class IncrementPlayerStatisticVersionRequestAdapter extends TypeAdapter<IncrementPlayerStatisticVersionRequest> {
+        private final TypeAdapter<String> stringAdapter;
+
+        private IncrementPlayerStatisticVersionRequestAdapter(Gson gson) {
+            stringAdapter = gson.getAdapter(String.class);
+        }
+
+        @Override
+        public void write(JsonWriter out, IncrementPlayerStatisticVersionRequest value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            PlayFabJson.writeMap(out.name("CustomTags"), value.CustomTags, stringAdapter);
+            out.name("StatisticName").value(value.StatisticName);
+            out.endObject();
+        }
+
+        @Override
+        public IncrementPlayerStatisticVersionRequest read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            IncrementPlayerStatisticVersionRequest value = new IncrementPlayerStatisticVersionRequest();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "CustomTags": value.CustomTags = PlayFabJson.readMap(in, stringAdapter); break;
+                        case "StatisticName": value.StatisticName = PlayFabJson.readString(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class IncrementPlayerStatisticVersionResultAdapter extends TypeAdapter<IncrementPlayerStatisticVersionResult> {
+        private final TypeAdapter<PlayerStatisticVersion> playerStatisticVersionAdapter;
+
+        private IncrementPlayerStatisticVersionResultAdapter(Gson gson) {
+            playerStatisticVersionAdapter = gson.getAdapter(PlayerStatisticVersion.class);
+        }
+
+        @Override
+        public void write(JsonWriter out, IncrementPlayerStatisticVersionResult value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            playerStatisticVersionAdapter.write(out.name("StatisticVersion"), value.StatisticVersion);
+            out.endObject();
+        }
+
+        @Override
+        public IncrementPlayerStatisticVersionResult read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            IncrementPlayerStatisticVersionResult value = new IncrementPlayerStatisticVersionResult();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "StatisticVersion": value.StatisticVersion = playerStatisticVersionAdapter.read(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class InsightsScalingTaskParameterAdapter extends TypeAdapter<InsightsScalingTaskParameter> {
+        private InsightsScalingTaskParameterAdapter(Gson gson) {
+        }
+
+        @Override
+        public void write(JsonWriter out, InsightsScalingTaskParameter value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.name("Level").value(value.Level);
+            out.endObject();
+        }
+
+        @Override
+        public InsightsScalingTaskParameter read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            InsightsScalingTaskParameter value = new InsightsScalingTaskParameter();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "Level": value.Level = PlayFabJson.readInteger(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class ItemGrantAdapter extends TypeAdapter<ItemGrant> {
+        private final TypeAdapter<String> stringAdapter;
+
+        private ItemGrantAdapter(Gson gson) {
+            stringAdapter = gson.getAdapter(String.class);
+        }
+
+        @Override
+        public void write(JsonWriter out, ItemGrant value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.name("Annotation").value(value.Annotation);
+            out.name("CharacterId").value(value.CharacterId);
+            PlayFabJson.writeMap(out.name("Data"), value.Data, stringAdapter);
+            out.name("ItemId").value(value.ItemId);
+            PlayFabJson.writeList(out.name("KeysToRemove"), value.KeysToRemove, stringAdapter);
+            out.name("PlayFabId").value(value.PlayFabId);
+            out.endObject();
+        }
+
+        @Override
+        public ItemGrant read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            ItemGrant value = new ItemGrant();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "Annotation": value.Annotation = PlayFabJson.readString(in); break;
+                        case "CharacterId": value.CharacterId = PlayFabJson.readString(in); break;
+                        case "Data": value.Data = PlayFabJson.readMap(in, stringAdapter); break;
+                        case "ItemId": value.ItemId = PlayFabJson.readString(in); break;
+                        case "KeysToRemove": value.KeysToRemove = PlayFabJson.readList(in, stringAdapter); break;
+                        case "PlayFabId": value.PlayFabId = PlayFabJson.readString(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class ItemInstanceAdapter extends TypeAdapter<ItemInstance> {
+        private final TypeAdapter<String> stringAdapter;
+        private final TypeAdapter<Date> dateAdapter;
+
+        private ItemInstanceAdapter(Gson gson) {
+            stringAdapter = gson.getAdapter(String.class);
+            dateAdapter = gson.getAdapter(Date.class);
+        }
+
+        @Override
+        public void write(JsonWriter out, ItemInstance value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.name("Annotation").value(value.Annotation);
+            PlayFabJson.writeList(out.name("BundleContents"), value.BundleContents, stringAdapter);
+            out.name("BundleParent").value(value.BundleParent);
+            out.name("CatalogVersion").value(value.CatalogVersion);
+            PlayFabJson.writeMap(out.name("CustomData"), value.CustomData, stringAdapter);
+            out.name("DisplayName").value(value.DisplayName);
+            dateAdapter.write(out.name("Expiration"), value.Expiration);
+            out.name("ItemClass").value(value.ItemClass);
+            out.name("ItemId").value(value.ItemId);
+            out.name("ItemInstanceId").value(value.ItemInstanceId);
+            dateAdapter.write(out.name("PurchaseDate"), value.PurchaseDate);
+            out.name("RemainingUses").value(value.RemainingUses);
+            out.name("UnitCurrency").value(value.UnitCurrency);
+            out.name("UnitPrice").value(value.UnitPrice);
+            out.name("UsesIncrementedBy").value(value.UsesIncrementedBy);
+            out.endObject();
+        }
+
+        @Override
+        public ItemInstance read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            ItemInstance value = new ItemInstance();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "Annotation": value.Annotation = PlayFabJson.readString(in); break;
+                        case "BundleContents": value.BundleContents = PlayFabJson.readList(in, stringAdapter); break;
+                        case "BundleParent": value.BundleParent = PlayFabJson.readString(in); break;
+                        case "CatalogVersion": value.CatalogVersion = PlayFabJson.readString(in); break;
+                        case "CustomData": value.CustomData = PlayFabJson.readMap(in, stringAdapter); break;
+                        case "DisplayName": value.DisplayName = PlayFabJson.readString(in); break;
+                        case "Expiration": value.Expiration = dateAdapter.read(in); break;
+                        case "ItemClass": value.ItemClass = PlayFabJson.readString(in); break;
+                        case "ItemId": value.ItemId = PlayFabJson.readString(in); break;
+                        case "ItemInstanceId": value.ItemInstanceId = PlayFabJson.readString(in); break;
+                        case "PurchaseDate": value.PurchaseDate = dateAdapter.read(in); break;
+                        case "RemainingUses": value.RemainingUses = PlayFabJson.readInteger(in); break;
+                        case "UnitCurrency": value.UnitCurrency = PlayFabJson.readString(in); break;
+                        case "UnitPrice": value.UnitPrice = PlayFabJson.readLong(in); break;
+                        case "UsesIncrementedBy": value.UsesIncrementedBy = PlayFabJson.readInteger(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class LastLoginDateSegmentFilterAdapter extends TypeAdapter<LastLoginDateSegmentFilter> {
+        private final TypeAdapter<SegmentFilterComparison> segmentFilterComparisonAdapter;
+        private final TypeAdapter<Date> dateAdapter;
+
+        private LastLoginDateSegmentFilterAdapter(Gson gson) {
+            segmentFilterComparisonAdapter = gson.getAdapter(SegmentFilterComparison.class);
+            dateAdapter = gson.getAdapter(Date.class);
+        }
+
+        @Override
+        public void write(JsonWriter out, LastLoginDateSegmentFilter value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            segmentFilterComparisonAdapter.write(out.name("Comparison"), value.Comparison);
+            dateAdapter.write(out.name("LogInDate"), value.LogInDate);
+            out.endObject();
+        }
+
+        @Override
+        public LastLoginDateSegmentFilter read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            LastLoginDateSegmentFilter value = new LastLoginDateSegmentFilter();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "Comparison": value.Comparison = segmentFilterComparisonAdapter.read(in); break;
+                        case "LogInDate": value.LogInDate = dateAdapter.read(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class LastLoginTimespanSegmentFilterAdapter extends TypeAdapter<LastLoginTimespanSegmentFilter> {
+        private final TypeAdapter<SegmentFilterComparison> segmentFilterComparisonAdapter;
+        private final TypeAdapter<Double> doubleAdapter;
+
+        private LastLoginTimespanSegmentFilterAdapter(Gson gson) {
+            segmentFilterComparisonAdapter = gson.getAdapter(SegmentFilterComparison.class);
+            doubleAdapter = gson.getAdapter(Double.class);
+        }
+
+        @Override
+        public void write(JsonWriter out, LastLoginTimespanSegmentFilter value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            segmentFilterComparisonAdapter.write(out.name("Comparison"), value.Comparison);
+            doubleAdapter.write(out.name("DurationInMinutes"), value.DurationInMinutes);
+            out.endObject();
+        }
+
+        @Override
+        public LastLoginTimespanSegmentFilter read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            LastLoginTimespanSegmentFilter value = new LastLoginTimespanSegmentFilter();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "Comparison": value.Comparison = segmentFilterComparisonAdapter.read(in); break;
+                        case "DurationInMinutes": value.DurationInMinutes = doubleAdapter.read(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class LinkedPlatformAccountModelAdapter extends TypeAdapter<LinkedPlatformAccountModel> {
+        private final TypeAdapter<LoginIdentityProvider> loginIdentityProviderAdapter;
+
+        private LinkedPlatformAccountModelAdapter(Gson gson) {
+            loginIdentityProviderAdapter = gson.getAdapter(LoginIdentityProvider.class);
+        }
+
+        @Override
+        public void write(JsonWriter out, LinkedPlatformAccountModel value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.name("Email").value(value.Email);
+            loginIdentityProviderAdapter.write(out.name("Platform"), value.Platform);
+            out.name("PlatformUserId").value(value.PlatformUserId);
+            out.name("Username").value(value.Username);
+            out.endObject();
+        }
+
+        @Override
+        public LinkedPlatformAccountModel read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            LinkedPlatformAccountModel value = new LinkedPlatformAccountModel();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "Email": value.Email = PlayFabJson.readString(in); break;
+                        case "Platform": value.Platform = loginIdentityProviderAdapter.read(in); break;
+                        case "PlatformUserId": value.PlatformUserId = PlayFabJson.readString(in); break;
+                        case "Username": value.Username = PlayFabJson.readString(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class LinkedUserAccountHasEmailSegmentFilterAdapter extends TypeAdapter<LinkedUserAccountHasEmailSegmentFilter> {
+        private final TypeAdapter<SegmentFilterComparison> segmentFilterComparisonAdapter;
+        private final TypeAdapter<SegmentLoginIdentityProvider> segmentLoginIdentityProviderAdapter;
+
+        private LinkedUserAccountHasEmailSegmentFilterAdapter(Gson gson) {
+            segmentFilterComparisonAdapter = gson.getAdapter(SegmentFilterComparison.class);
+            segmentLoginIdentityProviderAdapter = gson.getAdapter(SegmentLoginIdentityProvider.class);
+        }
+
+        @Override
+        public void write(JsonWriter out, LinkedUserAccountHasEmailSegmentFilter value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            segmentFilterComparisonAdapter.write(out.name("Comparison"), value.Comparison);
+            segmentLoginIdentityProviderAdapter.write(out.name("LoginProvider"), value.LoginProvider);
+            out.endObject();
+        }
+
+        @Override
+        public LinkedUserAccountHasEmailSegmentFilter read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            LinkedUserAccountHasEmailSegmentFilter value = new LinkedUserAccountHasEmailSegmentFilter();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "Comparison": value.Comparison = segmentFilterComparisonAdapter.read(in); break;
+                        case "LoginProvider": value.LoginProvider = segmentLoginIdentityProviderAdapter.read(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class LinkedUserAccountSegmentFilterAdapter extends TypeAdapter<LinkedUserAccountSegmentFilter> {
+        private final TypeAdapter<SegmentLoginIdentityProvider> segmentLoginIdentityProviderAdapter;
+
+        private LinkedUserAccountSegmentFilterAdapter(Gson gson) {
+            segmentLoginIdentityProviderAdapter = gson.getAdapter(SegmentLoginIdentityProvider.class);
+        }
+
+        @Override
+        public void write(JsonWriter out, LinkedUserAccountSegmentFilter value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            segmentLoginIdentityProviderAdapter.write(out.name("LoginProvider"), value.LoginProvider);
+            out.endObject();
+        }
+
+        @Override
+        public LinkedUserAccountSegmentFilter read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            LinkedUserAccountSegmentFilter value = new LinkedUserAccountSegmentFilter();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "LoginProvider": value.LoginProvider = segmentLoginIdentityProviderAdapter.read(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class ListBuildsRequestAdapter extends TypeAdapter<ListBuildsRequest> {
+        private ListBuildsRequestAdapter(Gson gson) {
+        }
+
+        @Override
+        public void write(JsonWriter out, ListBuildsRequest value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.endObject();
+        }
+
+        @Override
+        public ListBuildsRequest read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            ListBuildsRequest value = new ListBuildsRequest();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class ListBuildsResultAdapter extends TypeAdapter<ListBuildsResult> {
+        private final TypeAdapter<GetServerBuildInfoResult> getServerBuildInfoResultAdapter;
+
+        private ListBuildsResultAdapter(Gson gson) {
+            getServerBuildInfoResultAdapter = gson.getAdapter(GetServerBuildInfoResult.class);
+        }
+
+        @Override
+        public void write(JsonWriter out, ListBuildsResult value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            PlayFabJson.writeList(out.name("Builds"), value.Builds, getServerBuildInfoResultAdapter);
+            out.endObject();
+        }
+
+        @Override
+        public ListBuildsResult read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            ListBuildsResult value = new ListBuildsResult();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "Builds": value.Builds = PlayFabJson.readList(in, getServerBuildInfoResultAdapter); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class ListOpenIdConnectionRequestAdapter extends TypeAdapter<ListOpenIdConnectionRequest> {
+        private ListOpenIdConnectionRequestAdapter(Gson gson) {
+        }
+
+        @Override
+        public void write(JsonWriter out, ListOpenIdConnectionRequest value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.endObject();
+        }
+
+        @Override
+        public ListOpenIdConnectionRequest read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            ListOpenIdConnectionRequest value = new ListOpenIdConnectionRequest();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class ListOpenIdConnectionResponseAdapter extends TypeAdapter<ListOpenIdConnectionResponse> {
+        private final TypeAdapter<OpenIdConnection> openIdConnectionAdapter;
+
+        private ListOpenIdConnectionResponseAdapter(Gson gson) {
+            openIdConnectionAdapter = gson.getAdapter(OpenIdConnection.class);
+        }
+
+        @Override
+        public void write(JsonWriter out, ListOpenIdConnectionResponse value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            PlayFabJson.writeList(out.name("Connections"), value.Connections, openIdConnectionAdapter);
+            out.endObject();
+        }
+
+        @Override
+        public ListOpenIdConnectionResponse read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            ListOpenIdConnectionResponse value = new ListOpenIdConnectionResponse();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "Connections": value.Connections = PlayFabJson.readList(in, openIdConnectionAdapter); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class ListVirtualCurrencyTypesRequestAdapter extends TypeAdapter<ListVirtualCurrencyTypesRequest> {
+        private ListVirtualCurrencyTypesRequestAdapter(Gson gson) {
+        }
+
+        @Override
+        public void write(JsonWriter out, ListVirtualCurrencyTypesRequest value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.endObject();
+        }
+
+        @Override
+        public ListVirtualCurrencyTypesRequest read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            ListVirtualCurrencyTypesRequest value = new ListVirtualCurrencyTypesRequest();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class ListVirtualCurrencyTypesResultAdapter extends TypeAdapter<ListVirtualCurrencyTypesResult> {
+        private final TypeAdapter<VirtualCurrencyData> virtualCurrencyDataAdapter;
+
+        private ListVirtualCurrencyTypesResultAdapter(Gson gson) {
+            virtualCurrencyDataAdapter = gson.getAdapter(VirtualCurrencyData.class);
+        }
+
+        @Override
+        public void write(JsonWriter out, ListVirtualCurrencyTypesResult value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            PlayFabJson.writeList(out.name("VirtualCurrencies"), value.VirtualCurrencies, virtualCurrencyDataAdapter);
+            out.endObject();
+        }
+
+        @Override
+        public ListVirtualCurrencyTypesResult read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            ListVirtualCurrencyTypesResult value = new ListVirtualCurrencyTypesResult();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "VirtualCurrencies": value.VirtualCurrencies = PlayFabJson.readList(in, virtualCurrencyDataAdapter); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class LocationModelAdapter extends TypeAdapter<LocationModel> {
+        private final TypeAdapter<ContinentCode> continentCodeAdapter;
+        private final TypeAdapter<CountryCode> countryCodeAdapter;
+        private final TypeAdapter<Double> doubleAdapter;
+
+        private LocationModelAdapter(Gson gson) {
+            continentCodeAdapter = gson.getAdapter(ContinentCode.class);
+            countryCodeAdapter = gson.getAdapter(CountryCode.class);
+            doubleAdapter = gson.getAdapter(Double.class);
+        }
+
+        @Override
+        public void write(JsonWriter out, LocationModel value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.name("City").value(value.City);
+            continentCodeAdapter.write(out.name("ContinentCode"), value.ContinentCode);
+            countryCodeAdapter.write(out.name("CountryCode"), value.CountryCode);
+            doubleAdapter.write(out.name("Latitude"), value.Latitude);
+            doubleAdapter.write(out.name("Longitude"), value.Longitude);
+            out.endObject();
+        }
+
+        @Override
+        public LocationModel read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            LocationModel value = new LocationModel();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "City": value.City = PlayFabJson.readString(in); break;
+                        case "ContinentCode": value.ContinentCode = continentCodeAdapter.read(in); break;
+                        case "CountryCode": value.CountryCode = countryCodeAdapter.read(in); break;
+                        case "Latitude": value.Latitude = doubleAdapter.read(in); break;
+                        case "Longitude": value.Longitude = doubleAdapter.read(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class LocationSegmentFilterAdapter extends TypeAdapter<LocationSegmentFilter> {
+        private final TypeAdapter<SegmentCountryCode> segmentCountryCodeAdapter;
+
+        private LocationSegmentFilterAdapter(Gson gson) {
+            segmentCountryCodeAdapter = gson.getAdapter(SegmentCountryCode.class);
+        }
+
+        @Override
+        public void write(JsonWriter out, LocationSegmentFilter value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            segmentCountryCodeAdapter.write(out.name("CountryCode"), value.CountryCode);
+            out.endObject();
+        }
+
+        @Override
+        public LocationSegmentFilter read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            LocationSegmentFilter value = new LocationSegmentFilter();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "CountryCode": value.CountryCode = segmentCountryCodeAdapter.read(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class LogStatementAdapter extends TypeAdapter<LogStatement> {
+        private final TypeAdapter<Object> objectAdapter;
+
+        private LogStatementAdapter(Gson gson) {
+            objectAdapter = gson.getAdapter(Object.class);
+        }
+
+        @Override
+        public void write(JsonWriter out, LogStatement value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            objectAdapter.write(out.name("Data"), value.Data);
+            out.name("Level").value(value.Level);
+            out.name("Message").value(value.Message);
+            out.endObject();
+        }
+
+        @Override
+        public LogStatement read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            LogStatement value = new LogStatement();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "Data": value.Data = objectAdapter.read(in); break;
+                        case "Level": value.Level = PlayFabJson.readString(in); break;
+                        case "Message": value.Message = PlayFabJson.readString(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class LookupUserAccountInfoRequestAdapter extends TypeAdapter<LookupUserAccountInfoRequest> {
+        private LookupUserAccountInfoRequestAdapter(Gson gson) {
+        }
+
+        @Override
+        public void write(JsonWriter out, LookupUserAccountInfoRequest value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.name("Email").value(value.Email);
+            out.name("PlayFabId").value(value.PlayFabId);
+            out.name("TitleDisplayName").value(value.TitleDisplayName);
+            out.name("Username").value(value.Username);
+            out.endObject();
+        }
+
+        @Override
+        public LookupUserAccountInfoRequest read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            LookupUserAccountInfoRequest value = new LookupUserAccountInfoRequest();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "Email": value.Email = PlayFabJson.readString(in); break;
+                        case "PlayFabId": value.PlayFabId = PlayFabJson.readString(in); break;
+                        case "TitleDisplayName": value.TitleDisplayName = PlayFabJson.readString(in); break;
+                        case "Username": value.Username = PlayFabJson.readString(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class LookupUserAccountInfoResultAdapter extends TypeAdapter<LookupUserAccountInfoResult> {
+        private final TypeAdapter<UserAccountInfo> userAccountInfoAdapter;
+
+        private LookupUserAccountInfoResultAdapter(Gson gson) {
+            userAccountInfoAdapter = gson.getAdapter(UserAccountInfo.class);
+        }
+
+        @Override
+        public void write(JsonWriter out, LookupUserAccountInfoResult value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            userAccountInfoAdapter.write(out.name("UserInfo"), value.UserInfo);
+            out.endObject();
+        }
+
+        @Override
+        public LookupUserAccountInfoResult read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            LookupUserAccountInfoResult value = new LookupUserAccountInfoResult();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "UserInfo": value.UserInfo = userAccountInfoAdapter.read(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class MembershipModelAdapter extends TypeAdapter<MembershipModel> {
+        private final TypeAdapter<Date> dateAdapter;
+        private final TypeAdapter<SubscriptionModel> subscriptionModelAdapter;
+
+        private MembershipModelAdapter(Gson gson) {
+            dateAdapter = gson.getAdapter(Date.class);
+            subscriptionModelAdapter = gson.getAdapter(SubscriptionModel.class);
+        }
+
+        @Override
+        public void write(JsonWriter out, MembershipModel value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.name("IsActive").value(value.IsActive);
+            dateAdapter.write(out.name("MembershipExpiration"), value.MembershipExpiration);
+            out.name("MembershipId").value(value.MembershipId);
+            dateAdapter.write(out.name("OverrideExpiration"), value.OverrideExpiration);
+            PlayFabJson.writeList(out.name("Subscriptions"), value.Subscriptions, subscriptionModelAdapter);
+            out.endObject();
+        }
+
+        @Override
+        public MembershipModel read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            MembershipModel value = new MembershipModel();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "IsActive": value.IsActive = PlayFabJson.readBoolean(in); break;
+                        case "MembershipExpiration": value.MembershipExpiration = dateAdapter.read(in); break;
+                        case "MembershipId": value.MembershipId = PlayFabJson.readString(in); break;
+                        case "OverrideExpiration": value.OverrideExpiration = dateAdapter.read(in); break;
+                        case "Subscriptions": value.Subscriptions = PlayFabJson.readList(in, subscriptionModelAdapter); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class ModifyMatchmakerGameModesRequestAdapter extends TypeAdapter<ModifyMatchmakerGameModesRequest> {
+        private final TypeAdapter<GameModeInfo> gameModeInfoAdapter;
+
+        private ModifyMatchmakerGameModesRequestAdapter(Gson gson) {
+            gameModeInfoAdapter = gson.getAdapter(GameModeInfo.class);
+        }
+
+        @Override
+        public void write(JsonWriter out, ModifyMatchmakerGameModesRequest value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.name("BuildVersion").value(value.BuildVersion);
+            PlayFabJson.writeList(out.name("GameModes"), value.GameModes, gameModeInfoAdapter);
+            out.endObject();
+        }
+
+        @Override
+        public ModifyMatchmakerGameModesRequest read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            ModifyMatchmakerGameModesRequest value = new ModifyMatchmakerGameModesRequest();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "BuildVersion": value.BuildVersion = PlayFabJson.readString(in); break;
+                        case "GameModes": value.GameModes = PlayFabJson.readList(in, gameModeInfoAdapter); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class ModifyMatchmakerGameModesResultAdapter extends TypeAdapter<ModifyMatchmakerGameModesResult> {
+        private ModifyMatchmakerGameModesResultAdapter(Gson gson) {
+        }
+
+        @Override
+        public void write(JsonWriter out, ModifyMatchmakerGameModesResult value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.endObject();
+        }
+
+        @Override
+        public ModifyMatchmakerGameModesResult read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            ModifyMatchmakerGameModesResult value = new ModifyMatchmakerGameModesResult();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class ModifyServerBuildRequestAdapter extends TypeAdapter<ModifyServerBuildRequest> {
+        private final TypeAdapter<Region> regionAdapter;
+        private final TypeAdapter<String> stringAdapter;
+        private final TypeAdapter<Date> dateAdapter;
+
+        private ModifyServerBuildRequestAdapter(Gson gson) {
+            regionAdapter = gson.getAdapter(Region.class);
+            stringAdapter = gson.getAdapter(String.class);
+            dateAdapter = gson.getAdapter(Date.class);
+        }
+
+        @Override
+        public void write(JsonWriter out, ModifyServerBuildRequest value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            PlayFabJson.writeList(out.name("ActiveRegions"), value.ActiveRegions, regionAdapter);
+            out.name("BuildId").value(value.BuildId);
+            out.name("CommandLineTemplate").value(value.CommandLineTemplate);
+            out.name("Comment").value(value.Comment);
+            PlayFabJson.writeMap(out.name("CustomTags"), value.CustomTags, stringAdapter);
+            out.name("ExecutablePath").value(value.ExecutablePath);
+            out.name("MaxGamesPerHost").value(value.MaxGamesPerHost);
+            out.name("MinFreeGameSlots").value(value.MinFreeGameSlots);
+            dateAdapter.write(out.name("Timestamp"), value.Timestamp);
+            out.endObject();
+        }
+
+        @Override
+        public ModifyServerBuildRequest read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            ModifyServerBuildRequest value = new ModifyServerBuildRequest();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "ActiveRegions": value.ActiveRegions = PlayFabJson.readList(in, regionAdapter); break;
+                        case "BuildId": value.BuildId = PlayFabJson.readString(in); break;
+                        case "CommandLineTemplate": value.CommandLineTemplate = PlayFabJson.readString(in); break;
+                        case "Comment": value.Comment = PlayFabJson.readString(in); break;
+                        case "CustomTags": value.CustomTags = PlayFabJson.readMap(in, stringAdapter); break;
+                        case "ExecutablePath": value.ExecutablePath = PlayFabJson.readString(in); break;
+                        case "MaxGamesPerHost": value.MaxGamesPerHost = PlayFabJson.readInteger(in); break;
+                        case "MinFreeGameSlots": value.MinFreeGameSlots = PlayFabJson.readInteger(in); break;
+                        case "Timestamp": value.Timestamp = dateAdapter.read(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class ModifyServerBuildResultAdapter extends TypeAdapter<ModifyServerBuildResult> {
+        private final TypeAdapter<Region> regionAdapter;
+        private final TypeAdapter<GameBuildStatus> gameBuildStatusAdapter;
+        private final TypeAdapter<Date> dateAdapter;
+
+        private ModifyServerBuildResultAdapter(Gson gson) {
+            regionAdapter = gson.getAdapter(Region.class);
+            gameBuildStatusAdapter = gson.getAdapter(GameBuildStatus.class);
+            dateAdapter = gson.getAdapter(Date.class);
+        }
+
+        @Override
+        public void write(JsonWriter out, ModifyServerBuildResult value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            PlayFabJson.writeList(out.name("ActiveRegions"), value.ActiveRegions, regionAdapter);
+            out.name("BuildId").value(value.BuildId);
+            out.name("CommandLineTemplate").value(value.CommandLineTemplate);
+            out.name("Comment").value(value.Comment);
+            out.name("ExecutablePath").value(value.ExecutablePath);
+            out.name("MaxGamesPerHost").value(value.MaxGamesPerHost);
+            out.name("MinFreeGameSlots").value(value.MinFreeGameSlots);
+            gameBuildStatusAdapter.write(out.name("Status"), value.Status);
+            dateAdapter.write(out.name("Timestamp"), value.Timestamp);
+            out.name("TitleId").value(value.TitleId);
+            out.endObject();
+        }
+
+        @Override
+        public ModifyServerBuildResult read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            ModifyServerBuildResult value = new ModifyServerBuildResult();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "ActiveRegions": value.ActiveRegions = PlayFabJson.readList(in, regionAdapter); break;
+                        case "BuildId": value.BuildId = PlayFabJson.readString(in); break;
+                        case "CommandLineTemplate": value.CommandLineTemplate = PlayFabJson.readString(in); break;
+                        case "Comment": value.Comment = PlayFabJson.readString(in); break;
+                        case "ExecutablePath": value.ExecutablePath = PlayFabJson.readString(in); break;
+                        case "MaxGamesPerHost": value.MaxGamesPerHost = PlayFabJson.readInteger(in); break;
+                        case "MinFreeGameSlots": value.MinFreeGameSlots = PlayFabJson.readInteger(in); break;
+                        case "Status": value.Status = gameBuildStatusAdapter.read(in); break;
+                        case "Timestamp": value.Timestamp = dateAdapter.read(in); break;
+                        case "TitleId": value.TitleId = PlayFabJson.readString(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class ModifyUserVirtualCurrencyResultAdapter extends TypeAdapter<ModifyUserVirtualCurrencyResult> {
+        private ModifyUserVirtualCurrencyResultAdapter(Gson gson) {
+        }
+
+        @Override
+        public void write(JsonWriter out, ModifyUserVirtualCurrencyResult value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.name("Balance").value(value.Balance);
+            out.name("BalanceChange").value(value.BalanceChange);
+            out.name("PlayFabId").value(value.PlayFabId);
+            out.name("VirtualCurrency").value(value.VirtualCurrency);
+            out.endObject();
+        }
+
+        @Override
+        public ModifyUserVirtualCurrencyResult read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            ModifyUserVirtualCurrencyResult value = new ModifyUserVirtualCurrencyResult();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "Balance": value.Balance = PlayFabJson.readInteger(in); break;
+                        case "BalanceChange": value.BalanceChange = PlayFabJson.readInteger(in); break;
+                        case "PlayFabId": value.PlayFabId = PlayFabJson.readString(in); break;
+                        case "VirtualCurrency": value.VirtualCurrency = PlayFabJson.readString(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class NameIdentifierAdapter extends TypeAdapter<NameIdentifier> {
+        private NameIdentifierAdapter(Gson gson) {
+        }
+
+        @Override
+        public void write(JsonWriter out, NameIdentifier value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.name("Id").value(value.Id);
+            out.name("Name").value(value.Name);
+            out.endObject();
+        }
+
+        @Override
+        public NameIdentifier read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            NameIdentifier value = new NameIdentifier();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "Id": value.Id = PlayFabJson.readString(in); break;
+                        case "Name": value.Name = PlayFabJson.readString(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class OpenIdConnectionAdapter extends TypeAdapter<OpenIdConnection> {
+        private final TypeAdapter<OpenIdIssuerInformation> openIdIssuerInformationAdapter;
+
+        private OpenIdConnectionAdapter(Gson gson) {
+            openIdIssuerInformationAdapter = gson.getAdapter(OpenIdIssuerInformation.class);
+        }
+
+        @Override
+        public void write(JsonWriter out, OpenIdConnection value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.name("ClientId").value(value.ClientId);
+            out.name("ClientSecret").value(value.ClientSecret);
+            out.name("ConnectionId").value(value.ConnectionId);
+            out.name("DiscoverConfiguration").value(value.DiscoverConfiguration);
+            openIdIssuerInformationAdapter.write(out.name("IssuerInformation"), value.IssuerInformation);
+            out.endObject();
+        }
+
+        @Override
+        public OpenIdConnection read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            OpenIdConnection value = new OpenIdConnection();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "ClientId": value.ClientId = PlayFabJson.readString(in); break;
+                        case "ClientSecret": value.ClientSecret = PlayFabJson.readString(in); break;
+                        case "ConnectionId": value.ConnectionId = PlayFabJson.readString(in); break;
+                        case "DiscoverConfiguration": value.DiscoverConfiguration = PlayFabJson.readBoolean(in); break;
+                        case "IssuerInformation": value.IssuerInformation = openIdIssuerInformationAdapter.read(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class OpenIdIssuerInformationAdapter extends TypeAdapter<OpenIdIssuerInformation> {
+        private final TypeAdapter<Object> objectAdapter;
+
+        private OpenIdIssuerInformationAdapter(Gson gson) {
+            objectAdapter = gson.getAdapter(Object.class);
+        }
+
+        @Override
+        public void write(JsonWriter out, OpenIdIssuerInformation value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.name("AuthorizationUrl").value(value.AuthorizationUrl);
+            out.name("Issuer").value(value.Issuer);
+            objectAdapter.write(out.name("JsonWebKeySet"), value.JsonWebKeySet);
+            out.name("TokenUrl").value(value.TokenUrl);
+            out.endObject();
+        }
+
+        @Override
+        public OpenIdIssuerInformation read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            OpenIdIssuerInformation value = new OpenIdIssuerInformation();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "AuthorizationUrl": value.AuthorizationUrl = PlayFabJson.readString(in); break;
+                        case "Issuer": value.Issuer = PlayFabJson.readString(in); break;
+                        case "JsonWebKeySet": value.JsonWebKeySet = objectAdapter.read(in); break;
+                        case "TokenUrl": value.TokenUrl = PlayFabJson.readString(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class PermissionStatementAdapter extends TypeAdapter<PermissionStatement> {
+        private final TypeAdapter<ApiCondition> apiConditionAdapter;
+        private final TypeAdapter<EffectType> effectTypeAdapter;
+
+        private PermissionStatementAdapter(Gson gson) {
+            apiConditionAdapter = gson.getAdapter(ApiCondition.class);
+            effectTypeAdapter = gson.getAdapter(EffectType.class);
+        }
+
+        @Override
+        public void write(JsonWriter out, PermissionStatement value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.name("Action").value(value.Action);
+            apiConditionAdapter.write(out.name("ApiConditions"), value.ApiConditions);
+            out.name("Comment").value(value.Comment);
+            effectTypeAdapter.write(out.name("Effect"), value.Effect);
+            out.name("Principal").value(value.Principal);
+            out.name("Resource").value(value.Resource);
+            out.endObject();
+        }
+
+        @Override
+        public PermissionStatement read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            PermissionStatement value = new PermissionStatement();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "Action": value.Action = PlayFabJson.readString(in); break;
+                        case "ApiConditions": value.ApiConditions = apiConditionAdapter.read(in); break;
+                        case "Comment": value.Comment = PlayFabJson.readString(in); break;
+                        case "Effect": value.Effect = effectTypeAdapter.read(in); break;
+                        case "Principal": value.Principal = PlayFabJson.readString(in); break;
+                        case "Resource": value.Resource = PlayFabJson.readString(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class PlayerLinkedAccountAdapter extends TypeAdapter<PlayerLinkedAccount> {
+        private final TypeAdapter<LoginIdentityProvider> loginIdentityProviderAdapter;
+
+        private PlayerLinkedAccountAdapter(Gson gson) {
+            loginIdentityProviderAdapter = gson.getAdapter(LoginIdentityProvider.class);
+        }
+
+        @Override
+        public void write(JsonWriter out, PlayerLinkedAccount value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.name("Email").value(value.Email);
+            loginIdentityProviderAdapter.write(out.name("Platform"), value.Platform);
+            out.name("PlatformUserId").value(value.PlatformUserId);
+            out.name("Username").value(value.Username);
+            out.endObject();
+        }
+
+        @Override
+        public PlayerLinkedAccount read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            PlayerLinkedAccount value = new PlayerLinkedAccount();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "Email": value.Email = PlayFabJson.readString(in); break;
+                        case "Platform": value.Platform = loginIdentityProviderAdapter.read(in); break;
+                        case "PlatformUserId": value.PlatformUserId = PlayFabJson.readString(in); break;
+                        case "Username": value.Username = PlayFabJson.readString(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class PlayerLocationAdapter extends TypeAdapter<PlayerLocation> {
+        private final TypeAdapter<ContinentCode> continentCodeAdapter;
+        private final TypeAdapter<CountryCode> countryCodeAdapter;
+        private final TypeAdapter<Double> doubleAdapter;
+
+        private PlayerLocationAdapter(Gson gson) {
+            continentCodeAdapter = gson.getAdapter(ContinentCode.class);
+            countryCodeAdapter = gson.getAdapter(CountryCode.class);
+            doubleAdapter = gson.getAdapter(Double.class);
+        }
+
+        @Override
+        public void write(JsonWriter out, PlayerLocation value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.name("City").value(value.City);
+            continentCodeAdapter.write(out.name("ContinentCode"), value.ContinentCode);
+            countryCodeAdapter.write(out.name("CountryCode"), value.CountryCode);
+            doubleAdapter.write(out.name("Latitude"), value.Latitude);
+            doubleAdapter.write(out.name("Longitude"), value.Longitude);
+            out.endObject();
+        }
+
+        @Override
+        public PlayerLocation read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            PlayerLocation value = new PlayerLocation();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "City": value.City = PlayFabJson.readString(in); break;
+                        case "ContinentCode": value.ContinentCode = continentCodeAdapter.read(in); break;
+                        case "CountryCode": value.CountryCode = countryCodeAdapter.read(in); break;
+                        case "Latitude": value.Latitude = doubleAdapter.read(in); break;
+                        case "Longitude": value.Longitude = doubleAdapter.read(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class PlayerProfileAdapter extends TypeAdapter<PlayerProfile> {
+        private final TypeAdapter<AdCampaignAttribution> adCampaignAttributionAdapter;
+        private final TypeAdapter<Date> dateAdapter;
+        private final TypeAdapter<ContactEmailInfo> contactEmailInfoAdapter;
+        private final TypeAdapter<PlayerLinkedAccount> playerLinkedAccountAdapter;
+        private final TypeAdapter<PlayerLocation> playerLocationAdapter;
+        private final TypeAdapter<LoginIdentityProvider> loginIdentityProviderAdapter;
+        private final TypeAdapter<String> stringAdapter;
+        private final TypeAdapter<PlayerStatistic> playerStatisticAdapter;
+        private final TypeAdapter<PushNotificationRegistration> pushNotificationRegistrationAdapter;
+        private final TypeAdapter<Integer> integerAdapter;
+        private final TypeAdapter<Long> longAdapter;
+
+        private PlayerProfileAdapter(Gson gson) {
+            adCampaignAttributionAdapter = gson.getAdapter(AdCampaignAttribution.class);
+            dateAdapter = gson.getAdapter(Date.class);
+            contactEmailInfoAdapter = gson.getAdapter(ContactEmailInfo.class);
+            playerLinkedAccountAdapter = gson.getAdapter(PlayerLinkedAccount.class);
+            playerLocationAdapter = gson.getAdapter(PlayerLocation.class);
+            loginIdentityProviderAdapter = gson.getAdapter(LoginIdentityProvider.class);
+            stringAdapter = gson.getAdapter(String.class);
+            playerStatisticAdapter = gson.getAdapter(PlayerStatistic.class);
+            pushNotificationRegistrationAdapter = gson.getAdapter(PushNotificationRegistration.class);
+            integerAdapter = gson.getAdapter(Integer.class);
+            longAdapter = gson.getAdapter(Long.class);
+        }
+
+        @Override
+        public void write(JsonWriter out, PlayerProfile value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            PlayFabJson.writeList(out.name("AdCampaignAttributions"), value.AdCampaignAttributions, adCampaignAttributionAdapter);
+            out.name("AvatarUrl").value(value.AvatarUrl);
+            dateAdapter.write(out.name("BannedUntil"), value.BannedUntil);
+            PlayFabJson.writeList(out.name("ContactEmailAddresses"), value.ContactEmailAddresses, contactEmailInfoAdapter);
+            dateAdapter.write(out.name("Created"), value.Created);
+            out.name("DisplayName").value(value.DisplayName);
+            dateAdapter.write(out.name("LastLogin"), value.LastLogin);
+            PlayFabJson.writeList(out.name("LinkedAccounts"), value.LinkedAccounts, playerLinkedAccountAdapter);
+            PlayFabJson.writeMap(out.name("Locations"), value.Locations, playerLocationAdapter);
+            loginIdentityProviderAdapter.write(out.name("Origination"), value.Origination);
+            PlayFabJson.writeList(out.name("PlayerExperimentVariants"), value.PlayerExperimentVariants, stringAdapter);
+            out.name("PlayerId").value(value.PlayerId);
+            PlayFabJson.writeList(out.name("PlayerStatistics"), value.PlayerStatistics, playerStatisticAdapter);
+            out.name("PublisherId").value(value.PublisherId);
+            PlayFabJson.writeList(out.name("PushNotificationRegistrations"), value.PushNotificationRegistrations, pushNotificationRegistrationAdapter);
+            PlayFabJson.writeMap(out.name("Statistics"), value.Statistics, integerAdapter);
+            PlayFabJson.writeList(out.name("Tags"), value.Tags, stringAdapter);
+            out.name("TitleId").value(value.TitleId);
+            out.name("TotalValueToDateInUSD").value(value.TotalValueToDateInUSD);
+            PlayFabJson.writeMap(out.name("ValuesToDate"), value.ValuesToDate, longAdapter);
+            PlayFabJson.writeMap(out.name("VirtualCurrencyBalances"), value.VirtualCurrencyBalances, integerAdapter);
+            out.endObject();
+        }
+
+        @Override
+        public PlayerProfile read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            PlayerProfile value = new PlayerProfile();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "AdCampaignAttributions": value.AdCampaignAttributions = PlayFabJson.readList(in, adCampaignAttributionAdapter); break;
+                        case "AvatarUrl": value.AvatarUrl = PlayFabJson.readString(in); break;
+                        case "BannedUntil": value.BannedUntil = dateAdapter.read(in); break;
+                        case "ContactEmailAddresses": value.ContactEmailAddresses = PlayFabJson.readList(in, contactEmailInfoAdapter); break;
+                        case "Created": value.Created = dateAdapter.read(in); break;
+                        case "DisplayName": value.DisplayName = PlayFabJson.readString(in); break;
+                        case "LastLogin": value.LastLogin = dateAdapter.read(in); break;
+                        case "LinkedAccounts": value.LinkedAccounts = PlayFabJson.readList(in, playerLinkedAccountAdapter); break;
+                        case "Locations": value.Locations = PlayFabJson.readMap(in, playerLocationAdapter); break;
+                        case "Origination": value.Origination = loginIdentityProviderAdapter.read(in); break;
+                        case "PlayerExperimentVariants": value.PlayerExperimentVariants = PlayFabJson.readList(in, stringAdapter); break;
+                        case "PlayerId": value.PlayerId = PlayFabJson.readString(in); break;
+                        case "PlayerStatistics": value.PlayerStatistics = PlayFabJson.readList(in, playerStatisticAdapter); break;
+                        case "PublisherId": value.PublisherId = PlayFabJson.readString(in); break;
+                        case "PushNotificationRegistrations": value.PushNotificationRegistrations = PlayFabJson.readList(in, pushNotificationRegistrationAdapter); break;
+                        case "Statistics": value.Statistics = PlayFabJson.readMap(in, integerAdapter); break;
+                        case "Tags": value.Tags = PlayFabJson.readList(in, stringAdapter); break;
+                        case "TitleId": value.TitleId = PlayFabJson.readString(in); break;
+                        case "TotalValueToDateInUSD": value.TotalValueToDateInUSD = PlayFabJson.readLong(in); break;
+                        case "ValuesToDate": value.ValuesToDate = PlayFabJson.readMap(in, longAdapter); break;
+                        case "VirtualCurrencyBalances": value.VirtualCurrencyBalances = PlayFabJson.readMap(in, integerAdapter); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class PlayerProfileModelAdapter extends TypeAdapter<PlayerProfileModel> {
+        private final TypeAdapter<AdCampaignAttributionModel> adCampaignAttributionModelAdapter;
+        private final TypeAdapter<Date> dateAdapter;
+        private final TypeAdapter<ContactEmailInfoModel> contactEmailInfoModelAdapter;
+        private final TypeAdapter<String> stringAdapter;
+        private final TypeAdapter<LinkedPlatformAccountModel> linkedPlatformAccountModelAdapter;
+        private final TypeAdapter<LocationModel> locationModelAdapter;
+        private final TypeAdapter<MembershipModel> membershipModelAdapter;
+        private final TypeAdapter<LoginIdentityProvider> loginIdentityProviderAdapter;
+        private final TypeAdapter<PushNotificationRegistrationModel> pushNotificationRegistrationModelAdapter;
+        private final TypeAdapter<StatisticModel> statisticModelAdapter;
+        private final TypeAdapter<TagModel> tagModelAdapter;
+        private final TypeAdapter<ValueToDateModel> valueToDateModelAdapter;
+
+        private PlayerProfileModelAdapter(Gson gson) {
+            adCampaignAttributionModelAdapter = gson.getAdapter(AdCampaignAttributionModel.class);
+            dateAdapter = gson.getAdapter(Date.class);
+            contactEmailInfoModelAdapter = gson.getAdapter(ContactEmailInfoModel.class);
+            stringAdapter = gson.getAdapter(String.class);
+            linkedPlatformAccountModelAdapter = gson.getAdapter(LinkedPlatformAccountModel.class);
+            locationModelAdapter = gson.getAdapter(LocationModel.class);
+            membershipModelAdapter = gson.getAdapter(MembershipModel.class);
+            loginIdentityProviderAdapter = gson.getAdapter(LoginIdentityProvider.class);
+            pushNotificationRegistrationModelAdapter = gson.getAdapter(PushNotificationRegistrationModel.class);
+            statisticModelAdapter = gson.getAdapter(StatisticModel.class);
+            tagModelAdapter = gson.getAdapter(TagModel.class);
+            valueToDateModelAdapter = gson.getAdapter(ValueToDateModel.class);
+        }
+
+        @Override
+        public void write(JsonWriter out, PlayerProfileModel value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            PlayFabJson.writeList(out.name("AdCampaignAttributions"), value.AdCampaignAttributions, adCampaignAttributionModelAdapter);
+            out.name("AvatarUrl").value(value.AvatarUrl);
+            dateAdapter.write(out.name("BannedUntil"), value.BannedUntil);
+            PlayFabJson.writeList(out.name("ContactEmailAddresses"), value.ContactEmailAddresses, contactEmailInfoModelAdapter);
+            dateAdapter.write(out.name("Created"), value.Created);
+            out.name("DisplayName").value(value.DisplayName);
+            PlayFabJson.writeList(out.name("ExperimentVariants"), value.ExperimentVariants, stringAdapter);
+            dateAdapter.write(out.name("LastLogin"), value.LastLogin);
+            PlayFabJson.writeList(out.name("LinkedAccounts"), value.LinkedAccounts, linkedPlatformAccountModelAdapter);
+            PlayFabJson.writeList(out.name("Locations"), value.Locations, locationModelAdapter);
+            PlayFabJson.writeList(out.name("Memberships"), value.Memberships, membershipModelAdapter);
+            loginIdentityProviderAdapter.write(out.name("Origination"), value.Origination);
+            out.name("PlayerId").value(value.PlayerId);
+            out.name("PublisherId").value(value.PublisherId);
+            PlayFabJson.writeList(out.name("PushNotificationRegistrations"), value.PushNotificationRegistrations, pushNotificationRegistrationModelAdapter);
+            PlayFabJson.writeList(out.name("Statistics"), value.Statistics, statisticModelAdapter);
+            PlayFabJson.writeList(out.name("Tags"), value.Tags, tagModelAdapter);
+            out.name("TitleId").value(value.TitleId);
+            out.name("TotalValueToDateInUSD").value(value.TotalValueToDateInUSD);
+            PlayFabJson.writeList(out.name("ValuesToDate"), value.ValuesToDate, valueToDateModelAdapter);
+            out.endObject();
+        }
+
+        @Override
+        public PlayerProfileModel read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            PlayerProfileModel value = new PlayerProfileModel();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "AdCampaignAttributions": value.AdCampaignAttributions = PlayFabJson.readList(in, adCampaignAttributionModelAdapter); break;
+                        case "AvatarUrl": value.AvatarUrl = PlayFabJson.readString(in); break;
+                        case "BannedUntil": value.BannedUntil = dateAdapter.read(in); break;
+                        case "ContactEmailAddresses": value.ContactEmailAddresses = PlayFabJson.readList(in, contactEmailInfoModelAdapter); break;
+                        case "Created": value.Created = dateAdapter.read(in); break;
+                        case "DisplayName": value.DisplayName = PlayFabJson.readString(in); break;
+                        case "ExperimentVariants": value.ExperimentVariants = PlayFabJson.readList(in, stringAdapter); break;
+                        case "LastLogin": value.LastLogin = dateAdapter.read(in); break;
+                        case "LinkedAccounts": value.LinkedAccounts = PlayFabJson.readList(in, linkedPlatformAccountModelAdapter); break;
+                        case "Locations": value.Locations = PlayFabJson.readList(in, locationModelAdapter); break;
+                        case "Memberships": value.Memberships = PlayFabJson.readList(in, membershipModelAdapter); break;
+                        case "Origination": value.Origination = loginIdentityProviderAdapter.read(in); break;
+                        case "PlayerId": value.PlayerId = PlayFabJson.readString(in); break;
+                        case "PublisherId": value.PublisherId = PlayFabJson.readString(in); break;
+                        case "PushNotificationRegistrations": value.PushNotificationRegistrations = PlayFabJson.readList(in, pushNotificationRegistrationModelAdapter); break;
+                        case "Statistics": value.Statistics = PlayFabJson.readList(in, statisticModelAdapter); break;
+                        case "Tags": value.Tags = PlayFabJson.readList(in, tagModelAdapter); break;
+                        case "TitleId": value.TitleId = PlayFabJson.readString(in); break;
+                        case "TotalValueToDateInUSD": value.TotalValueToDateInUSD = PlayFabJson.readLong(in); break;
+                        case "ValuesToDate": value.ValuesToDate = PlayFabJson.readList(in, valueToDateModelAdapter); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class PlayerProfileViewConstraintsAdapter extends TypeAdapter<PlayerProfileViewConstraints> {
+        private PlayerProfileViewConstraintsAdapter(Gson gson) {
+        }
+
+        @Override
+        public void write(JsonWriter out, PlayerProfileViewConstraints value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.name("ShowAvatarUrl").value(value.ShowAvatarUrl);
+            out.name("ShowBannedUntil").value(value.ShowBannedUntil);
+            out.name("ShowCampaignAttributions").value(value.ShowCampaignAttributions);
+            out.name("ShowContactEmailAddresses").value(value.ShowContactEmailAddresses);
+            out.name("ShowCreated").value(value.ShowCreated);
+            out.name("ShowDisplayName").value(value.ShowDisplayName);
+            out.name("ShowExperimentVariants").value(value.ShowExperimentVariants);
+            out.name("ShowLastLogin").value(value.ShowLastLogin);
+            out.name("ShowLinkedAccounts").value(value.ShowLinkedAccounts);
+            out.name("ShowLocations").value(value.ShowLocations);
+            out.name("ShowMemberships").value(value.ShowMemberships);
+            out.name("ShowOrigination").value(value.ShowOrigination);
+            out.name("ShowPushNotificationRegistrations").value(value.ShowPushNotificationRegistrations);
+            out.name("ShowStatistics").value(value.ShowStatistics);
+            out.name("ShowTags").value(value.ShowTags);
+            out.name("ShowTotalValueToDateInUsd").value(value.ShowTotalValueToDateInUsd);
+            out.name("ShowValuesToDate").value(value.ShowValuesToDate);
+            out.endObject();
+        }
+
+        @Override
+        public PlayerProfileViewConstraints read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            PlayerProfileViewConstraints value = new PlayerProfileViewConstraints();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "ShowAvatarUrl": value.ShowAvatarUrl = PlayFabJson.readBoolean(in); break;
+                        case "ShowBannedUntil": value.ShowBannedUntil = PlayFabJson.readBoolean(in); break;
+                        case "ShowCampaignAttributions": value.ShowCampaignAttributions = PlayFabJson.readBoolean(in); break;
+                        case "ShowContactEmailAddresses": value.ShowContactEmailAddresses = PlayFabJson.readBoolean(in); break;
+                        case "ShowCreated": value.ShowCreated = PlayFabJson.readBoolean(in); break;
+                        case "ShowDisplayName": value.ShowDisplayName = PlayFabJson.readBoolean(in); break;
+                        case "ShowExperimentVariants": value.ShowExperimentVariants = PlayFabJson.readBoolean(in); break;
+                        case "ShowLastLogin": value.ShowLastLogin = PlayFabJson.readBoolean(in); break;
+                        case "ShowLinkedAccounts": value.ShowLinkedAccounts = PlayFabJson.readBoolean(in); break;
+                        case "ShowLocations": value.ShowLocations = PlayFabJson.readBoolean(in); break;
+                        case "ShowMemberships": value.ShowMemberships = PlayFabJson.readBoolean(in); break;
+                        case "ShowOrigination": value.ShowOrigination = PlayFabJson.readBoolean(in); break;
+                        case "ShowPushNotificationRegistrations": value.ShowPushNotificationRegistrations = PlayFabJson.readBoolean(in); break;
+                        case "ShowStatistics": value.ShowStatistics = PlayFabJson.readBoolean(in); break;
+                        case "ShowTags": value.ShowTags = PlayFabJson.readBoolean(in); break;
+                        case "ShowTotalValueToDateInUsd": value.ShowTotalValueToDateInUsd = PlayFabJson.readBoolean(in); break;
+                        case "ShowValuesToDate": value.ShowValuesToDate = PlayFabJson.readBoolean(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class PlayerStatisticAdapter extends TypeAdapter<PlayerStatistic> {
+        private PlayerStatisticAdapter(Gson gson) {
+        }
+
+        @Override
+        public void write(JsonWriter out, PlayerStatistic value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.name("Id").value(value.Id);
+            out.name("Name").value(value.Name);
+            out.name("StatisticValue").value(value.StatisticValue);
+            out.name("StatisticVersion").value(value.StatisticVersion);
+            out.endObject();
+        }
+
+        @Override
+        public PlayerStatistic read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            PlayerStatistic value = new PlayerStatistic();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "Id": value.Id = PlayFabJson.readString(in); break;
+                        case "Name": value.Name = PlayFabJson.readString(in); break;
+                        case "StatisticValue": value.StatisticValue = PlayFabJson.readInteger(in); break;
+                        case "StatisticVersion": value.StatisticVersion = PlayFabJson.readInteger(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class PlayerStatisticDefinitionAdapter extends TypeAdapter<PlayerStatisticDefinition> {
+        private final TypeAdapter<StatisticAggregationMethod> statisticAggregationMethodAdapter;
+        private final TypeAdapter<StatisticResetIntervalOption> statisticResetIntervalOptionAdapter;
+
+        private PlayerStatisticDefinitionAdapter(Gson gson) {
+            statisticAggregationMethodAdapter = gson.getAdapter(StatisticAggregationMethod.class);
+            statisticResetIntervalOptionAdapter = gson.getAdapter(StatisticResetIntervalOption.class);
+        }
+
+        @Override
+        public void write(JsonWriter out, PlayerStatisticDefinition value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            statisticAggregationMethodAdapter.write(out.name("AggregationMethod"), value.AggregationMethod);
+            out.name("CurrentVersion").value(value.CurrentVersion);
+            out.name("StatisticName").value(value.StatisticName);
+            statisticResetIntervalOptionAdapter.write(out.name("VersionChangeInterval"), value.VersionChangeInterval);
+            out.endObject();
+        }
+
+        @Override
+        public PlayerStatisticDefinition read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            PlayerStatisticDefinition value = new PlayerStatisticDefinition();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "AggregationMethod": value.AggregationMethod = statisticAggregationMethodAdapter.read(in); break;
+                        case "CurrentVersion": value.CurrentVersion = PlayFabJson.readLong(in); break;
+                        case "StatisticName": value.StatisticName = PlayFabJson.readString(in); break;
+                        case "VersionChangeInterval": value.VersionChangeInterval = statisticResetIntervalOptionAdapter.read(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class PlayerStatisticVersionAdapter extends TypeAdapter<PlayerStatisticVersion> {
+        private final TypeAdapter<Date> dateAdapter;
+        private final TypeAdapter<StatisticVersionStatus> statisticVersionStatusAdapter;
+
+        private PlayerStatisticVersionAdapter(Gson gson) {
+            dateAdapter = gson.getAdapter(Date.class);
+            statisticVersionStatusAdapter = gson.getAdapter(StatisticVersionStatus.class);
+        }
+
+        @Override
+        public void write(JsonWriter out, PlayerStatisticVersion value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            dateAdapter.write(out.name("ActivationTime"), value.ActivationTime);
+            out.name("ArchiveDownloadUrl").value(value.ArchiveDownloadUrl);
+            dateAdapter.write(out.name("DeactivationTime"), value.DeactivationTime);
+            dateAdapter.write(out.name("ScheduledActivationTime"), value.ScheduledActivationTime);
+            dateAdapter.write(out.name("ScheduledDeactivationTime"), value.ScheduledDeactivationTime);
+            out.name("StatisticName").value(value.StatisticName);
+            statisticVersionStatusAdapter.write(out.name("Status"), value.Status);
+            out.name("Version").value(value.Version);
+            out.endObject();
+        }
+
+        @Override
+        public PlayerStatisticVersion read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            PlayerStatisticVersion value = new PlayerStatisticVersion();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "ActivationTime": value.ActivationTime = dateAdapter.read(in); break;
+                        case "ArchiveDownloadUrl": value.ArchiveDownloadUrl = PlayFabJson.readString(in); break;
+                        case "DeactivationTime": value.DeactivationTime = dateAdapter.read(in); break;
+                        case "ScheduledActivationTime": value.ScheduledActivationTime = dateAdapter.read(in); break;
+                        case "ScheduledDeactivationTime": value.ScheduledDeactivationTime = dateAdapter.read(in); break;
+                        case "StatisticName": value.StatisticName = PlayFabJson.readString(in); break;
+                        case "Status": value.Status = statisticVersionStatusAdapter.read(in); break;
+                        case "Version": value.Version = PlayFabJson.readLong(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class PushNotificationRegistrationAdapter extends TypeAdapter<PushNotificationRegistration> {
+        private final TypeAdapter<PushNotificationPlatform> pushNotificationPlatformAdapter;
+
+        private PushNotificationRegistrationAdapter(Gson gson) {
+            pushNotificationPlatformAdapter = gson.getAdapter(PushNotificationPlatform.class);
+        }
+
+        @Override
+        public void write(JsonWriter out, PushNotificationRegistration value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.name("NotificationEndpointARN").value(value.NotificationEndpointARN);
+            pushNotificationPlatformAdapter.write(out.name("Platform"), value.Platform);
+            out.endObject();
+        }
+
+        @Override
+        public PushNotificationRegistration read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            PushNotificationRegistration value = new PushNotificationRegistration();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "NotificationEndpointARN": value.NotificationEndpointARN = PlayFabJson.readString(in); break;
+                        case "Platform": value.Platform = pushNotificationPlatformAdapter.read(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class PushNotificationRegistrationModelAdapter extends TypeAdapter<PushNotificationRegistrationModel> {
+        private final TypeAdapter<PushNotificationPlatform> pushNotificationPlatformAdapter;
+
+        private PushNotificationRegistrationModelAdapter(Gson gson) {
+            pushNotificationPlatformAdapter = gson.getAdapter(PushNotificationPlatform.class);
+        }
+
+        @Override
+        public void write(JsonWriter out, PushNotificationRegistrationModel value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.name("NotificationEndpointARN").value(value.NotificationEndpointARN);
+            pushNotificationPlatformAdapter.write(out.name("Platform"), value.Platform);
+            out.endObject();
+        }
+
+        @Override
+        public PushNotificationRegistrationModel read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            PushNotificationRegistrationModel value = new PushNotificationRegistrationModel();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "NotificationEndpointARN": value.NotificationEndpointARN = PlayFabJson.readString(in); break;
+                        case "Platform": value.Platform = pushNotificationPlatformAdapter.read(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class PushNotificationSegmentActionAdapter extends TypeAdapter<PushNotificationSegmentAction> {
+        private PushNotificationSegmentActionAdapter(Gson gson) {
+        }
+
+        @Override
+        public void write(JsonWriter out, PushNotificationSegmentAction value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.name("PushNotificationTemplateId").value(value.PushNotificationTemplateId);
+            out.endObject();
+        }
+
+        @Override
+        public PushNotificationSegmentAction read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            PushNotificationSegmentAction value = new PushNotificationSegmentAction();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "PushNotificationTemplateId": value.PushNotificationTemplateId = PlayFabJson.readString(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class PushNotificationSegmentFilterAdapter extends TypeAdapter<PushNotificationSegmentFilter> {
+        private final TypeAdapter<SegmentPushNotificationDevicePlatform> segmentPushNotificationDevicePlatformAdapter;
+
+        private PushNotificationSegmentFilterAdapter(Gson gson) {
+            segmentPushNotificationDevicePlatformAdapter = gson.getAdapter(SegmentPushNotificationDevicePlatform.class);
+        }
+
+        @Override
+        public void write(JsonWriter out, PushNotificationSegmentFilter value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            segmentPushNotificationDevicePlatformAdapter.write(out.name("PushNotificationDevicePlatform"), value.PushNotificationDevicePlatform);
+            out.endObject();
+        }
+
+        @Override
+        public PushNotificationSegmentFilter read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            PushNotificationSegmentFilter value = new PushNotificationSegmentFilter();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "PushNotificationDevicePlatform": value.PushNotificationDevicePlatform = segmentPushNotificationDevicePlatformAdapter.read(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class RandomResultTableAdapter extends TypeAdapter<RandomResultTable> {
+        private final TypeAdapter<ResultTableNode> resultTableNodeAdapter;
+
+        private RandomResultTableAdapter(Gson gson) {
+            resultTableNodeAdapter = gson.getAdapter(ResultTableNode.class);
+        }
+
+        @Override
+        public void write(JsonWriter out, RandomResultTable value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            PlayFabJson.writeList(out.name("Nodes"), value.Nodes, resultTableNodeAdapter);
+            out.name("TableId").value(value.TableId);
+            out.endObject();
+        }
+
+        @Override
+        public RandomResultTable read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            RandomResultTable value = new RandomResultTable();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "Nodes": value.Nodes = PlayFabJson.readList(in, resultTableNodeAdapter); break;
+                        case "TableId": value.TableId = PlayFabJson.readString(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class RandomResultTableListingAdapter extends TypeAdapter<RandomResultTableListing> {
+        private final TypeAdapter<ResultTableNode> resultTableNodeAdapter;
+
+        private RandomResultTableListingAdapter(Gson gson) {
+            resultTableNodeAdapter = gson.getAdapter(ResultTableNode.class);
+        }
+
+        @Override
+        public void write(JsonWriter out, RandomResultTableListing value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.name("CatalogVersion").value(value.CatalogVersion);
+            PlayFabJson.writeList(out.name("Nodes"), value.Nodes, resultTableNodeAdapter);
+            out.name("TableId").value(value.TableId);
+            out.endObject();
+        }
+
+        @Override
+        public RandomResultTableListing read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            RandomResultTableListing value = new RandomResultTableListing();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "CatalogVersion": value.CatalogVersion = PlayFabJson.readString(in); break;
+                        case "Nodes": value.Nodes = PlayFabJson.readList(in, resultTableNodeAdapter); break;
+                        case "TableId": value.TableId = PlayFabJson.readString(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class RefundPurchaseRequestAdapter extends TypeAdapter<RefundPurchaseRequest> {
+        private RefundPurchaseRequestAdapter(Gson gson) {
+        }
+
+        @Override
+        public void write(JsonWriter out, RefundPurchaseRequest value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.name("OrderId").value(value.OrderId);
+            out.name("PlayFabId").value(value.PlayFabId);
+            out.name("Reason").value(value.Reason);
+            out.endObject();
+        }
+
+        @Override
+        public RefundPurchaseRequest read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            RefundPurchaseRequest value = new RefundPurchaseRequest();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "OrderId": value.OrderId = PlayFabJson.readString(in); break;
+                        case "PlayFabId": value.PlayFabId = PlayFabJson.readString(in); break;
+                        case "Reason": value.Reason = PlayFabJson.readString(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class RefundPurchaseResponseAdapter extends TypeAdapter<RefundPurchaseResponse> {
+        private RefundPurchaseResponseAdapter(Gson gson) {
+        }
+
+        @Override
+        public void write(JsonWriter out, RefundPurchaseResponse value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.name("PurchaseStatus").value(value.PurchaseStatus);
+            out.endObject();
+        }
+
+        @Override
+        public RefundPurchaseResponse read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            RefundPurchaseResponse value = new RefundPurchaseResponse();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "PurchaseStatus": value.PurchaseStatus = PlayFabJson.readString(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class RemovePlayerTagRequestAdapter extends TypeAdapter<RemovePlayerTagRequest> {
+        private final TypeAdapter<String> stringAdapter;
+
+        private RemovePlayerTagRequestAdapter(Gson gson) {
+            stringAdapter = gson.getAdapter(String.class);
+        }
+
+        @Override
+        public void write(JsonWriter out, RemovePlayerTagRequest value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            PlayFabJson.writeMap(out.name("CustomTags"), value.CustomTags, stringAdapter);
+            out.name("PlayFabId").value(value.PlayFabId);
+            out.name("TagName").value(value.TagName);
+            out.endObject();
+        }
+
+        @Override
+        public RemovePlayerTagRequest read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            RemovePlayerTagRequest value = new RemovePlayerTagRequest();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "CustomTags": value.CustomTags = PlayFabJson.readMap(in, stringAdapter); break;
+                        case "PlayFabId": value.PlayFabId = PlayFabJson.readString(in); break;
+                        case "TagName": value.TagName = PlayFabJson.readString(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class RemovePlayerTagResultAdapter extends TypeAdapter<RemovePlayerTagResult> {
+        private RemovePlayerTagResultAdapter(Gson gson) {
+        }
+
+        @Override
+        public void write(JsonWriter out, RemovePlayerTagResult value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.endObject();
+        }
+
+        @Override
+        public RemovePlayerTagResult read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            RemovePlayerTagResult value = new RemovePlayerTagResult();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class RemoveServerBuildRequestAdapter extends TypeAdapter<RemoveServerBuildRequest> {
+        private RemoveServerBuildRequestAdapter(Gson gson) {
+        }
+
+        @Override
+        public void write(JsonWriter out, RemoveServerBuildRequest value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.name("BuildId").value(value.BuildId);
+            out.endObject();
+        }
+
+        @Override
+        public RemoveServerBuildRequest read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            RemoveServerBuildRequest value = new RemoveServerBuildRequest();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "BuildId": value.BuildId = PlayFabJson.readString(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class RemoveServerBuildResultAdapter extends TypeAdapter<RemoveServerBuildResult> {
+        private RemoveServerBuildResultAdapter(Gson gson) {
+        }
+
+        @Override
+        public void write(JsonWriter out, RemoveServerBuildResult value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.endObject();
+        }
+
+        @Override
+        public RemoveServerBuildResult read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            RemoveServerBuildResult value = new RemoveServerBuildResult();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class RemoveVirtualCurrencyTypesRequestAdapter extends TypeAdapter<RemoveVirtualCurrencyTypesRequest> {
+        private final TypeAdapter<VirtualCurrencyData> virtualCurrencyDataAdapter;
+
+        private RemoveVirtualCurrencyTypesRequestAdapter(Gson gson) {
+            virtualCurrencyDataAdapter = gson.getAdapter(VirtualCurrencyData.class);
+        }
+
+        @Override
+        public void write(JsonWriter out, RemoveVirtualCurrencyTypesRequest value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            PlayFabJson.writeList(out.name("VirtualCurrencies"), value.VirtualCurrencies, virtualCurrencyDataAdapter);
+            out.endObject();
+        }
+
+        @Override
+        public RemoveVirtualCurrencyTypesRequest read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            RemoveVirtualCurrencyTypesRequest value = new RemoveVirtualCurrencyTypesRequest();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "VirtualCurrencies": value.VirtualCurrencies = PlayFabJson.readList(in, virtualCurrencyDataAdapter); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class ResetCharacterStatisticsRequestAdapter extends TypeAdapter<ResetCharacterStatisticsRequest> {
+        private final TypeAdapter<String> stringAdapter;
+
+        private ResetCharacterStatisticsRequestAdapter(Gson gson) {
+            stringAdapter = gson.getAdapter(String.class);
+        }
+
+        @Override
+        public void write(JsonWriter out, ResetCharacterStatisticsRequest value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.name("CharacterId").value(value.CharacterId);
+            PlayFabJson.writeMap(out.name("CustomTags"), value.CustomTags, stringAdapter);
+            out.name("PlayFabId").value(value.PlayFabId);
+            out.endObject();
+        }
+
+        @Override
+        public ResetCharacterStatisticsRequest read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            ResetCharacterStatisticsRequest value = new ResetCharacterStatisticsRequest();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "CharacterId": value.CharacterId = PlayFabJson.readString(in); break;
+                        case "CustomTags": value.CustomTags = PlayFabJson.readMap(in, stringAdapter); break;
+                        case "PlayFabId": value.PlayFabId = PlayFabJson.readString(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class ResetCharacterStatisticsResultAdapter extends TypeAdapter<ResetCharacterStatisticsResult> {
+        private ResetCharacterStatisticsResultAdapter(Gson gson) {
+        }
+
+        @Override
+        public void write(JsonWriter out, ResetCharacterStatisticsResult value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.endObject();
+        }
+
+        @Override
+        public ResetCharacterStatisticsResult read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            ResetCharacterStatisticsResult value = new ResetCharacterStatisticsResult();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class ResetPasswordRequestAdapter extends TypeAdapter<ResetPasswordRequest> {
+        private final TypeAdapter<String> stringAdapter;
+
+        private ResetPasswordRequestAdapter(Gson gson) {
+            stringAdapter = gson.getAdapter(String.class);
+        }
+
+        @Override
+        public void write(JsonWriter out, ResetPasswordRequest value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            PlayFabJson.writeMap(out.name("CustomTags"), value.CustomTags, stringAdapter);
+            out.name("Password").value(value.Password);
+            out.name("Token").value(value.Token);
+            out.endObject();
+        }
+
+        @Override
+        public ResetPasswordRequest read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            ResetPasswordRequest value = new ResetPasswordRequest();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "CustomTags": value.CustomTags = PlayFabJson.readMap(in, stringAdapter); break;
+                        case "Password": value.Password = PlayFabJson.readString(in); break;
+                        case "Token": value.Token = PlayFabJson.readString(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class ResetPasswordResultAdapter extends TypeAdapter<ResetPasswordResult> {
+        private ResetPasswordResultAdapter(Gson gson) {
+        }
+
+        @Override
+        public void write(JsonWriter out, ResetPasswordResult value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.endObject();
+        }
+
+        @Override
+        public ResetPasswordResult read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            ResetPasswordResult value = new ResetPasswordResult();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class ResetUserStatisticsRequestAdapter extends TypeAdapter<ResetUserStatisticsRequest> {
+        private final TypeAdapter<String> stringAdapter;
+
+        private ResetUserStatisticsRequestAdapter(Gson gson) {
+            stringAdapter = gson.getAdapter(String.class);
+        }
+
+        @Override
+        public void write(JsonWriter out, ResetUserStatisticsRequest value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            PlayFabJson.writeMap(out.name("CustomTags"), value.CustomTags, stringAdapter);
+            out.name("PlayFabId").value(value.PlayFabId);
+            out.endObject();
+        }
+
+        @Override
+        public ResetUserStatisticsRequest read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            ResetUserStatisticsRequest value = new ResetUserStatisticsRequest();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "CustomTags": value.CustomTags = PlayFabJson.readMap(in, stringAdapter); break;
+                        case "PlayFabId": value.PlayFabId = PlayFabJson.readString(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class ResetUserStatisticsResultAdapter extends TypeAdapter<ResetUserStatisticsResult> {
+        private ResetUserStatisticsResultAdapter(Gson gson) {
+        }
+
+        @Override
+        public void write(JsonWriter out, ResetUserStatisticsResult value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.endObject();
+        }
+
+        @Override
+        public ResetUserStatisticsResult read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            ResetUserStatisticsResult value = new ResetUserStatisticsResult();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class ResolvePurchaseDisputeRequestAdapter extends TypeAdapter<ResolvePurchaseDisputeRequest> {
+        private final TypeAdapter<ResolutionOutcome> resolutionOutcomeAdapter;
+
+        private ResolvePurchaseDisputeRequestAdapter(Gson gson) {
+            resolutionOutcomeAdapter = gson.getAdapter(ResolutionOutcome.class);
+        }
+
+        @Override
+        public void write(JsonWriter out, ResolvePurchaseDisputeRequest value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.name("OrderId").value(value.OrderId);
+            resolutionOutcomeAdapter.write(out.name("Outcome"), value.Outcome);
+            out.name("PlayFabId").value(value.PlayFabId);
+            out.name("Reason").value(value.Reason);
+            out.endObject();
+        }
+
+        @Override
+        public ResolvePurchaseDisputeRequest read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            ResolvePurchaseDisputeRequest value = new ResolvePurchaseDisputeRequest();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "OrderId": value.OrderId = PlayFabJson.readString(in); break;
+                        case "Outcome": value.Outcome = resolutionOutcomeAdapter.read(in); break;
+                        case "PlayFabId": value.PlayFabId = PlayFabJson.readString(in); break;
+                        case "Reason": value.Reason = PlayFabJson.readString(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class ResolvePurchaseDisputeResponseAdapter extends TypeAdapter<ResolvePurchaseDisputeResponse> {
+        private ResolvePurchaseDisputeResponseAdapter(Gson gson) {
+        }
+
+        @Override
+        public void write(JsonWriter out, ResolvePurchaseDisputeResponse value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.name("PurchaseStatus").value(value.PurchaseStatus);
+            out.endObject();
+        }
+
+        @Override
+        public ResolvePurchaseDisputeResponse read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            ResolvePurchaseDisputeResponse value = new ResolvePurchaseDisputeResponse();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "PurchaseStatus": value.PurchaseStatus = PlayFabJson.readString(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class ResultTableNodeAdapter extends TypeAdapter<ResultTableNode> {
+        private final TypeAdapter<ResultTableNodeType> resultTableNodeTypeAdapter;
+
+        private ResultTableNodeAdapter(Gson gson) {
+            resultTableNodeTypeAdapter = gson.getAdapter(ResultTableNodeType.class);
+        }
+
+        @Override
+        public void write(JsonWriter out, ResultTableNode value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.name("ResultItem").value(value.ResultItem);
+            resultTableNodeTypeAdapter.write(out.name("ResultItemType"), value.ResultItemType);
+            out.name("Weight").value(value.Weight);
+            out.endObject();
+        }
+
+        @Override
+        public ResultTableNode read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            ResultTableNode value = new ResultTableNode();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "ResultItem": value.ResultItem = PlayFabJson.readString(in); break;
+                        case "ResultItemType": value.ResultItemType = resultTableNodeTypeAdapter.read(in); break;
+                        case "Weight": value.Weight = PlayFabJson.readInteger(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class RevokeAllBansForUserRequestAdapter extends TypeAdapter<RevokeAllBansForUserRequest> {
+        private RevokeAllBansForUserRequestAdapter(Gson gson) {
+        }
+
+        @Override
+        public void write(JsonWriter out, RevokeAllBansForUserRequest value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.name("PlayFabId").value(value.PlayFabId);
+            out.endObject();
+        }
+
+        @Override
+        public RevokeAllBansForUserRequest read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            RevokeAllBansForUserRequest value = new RevokeAllBansForUserRequest();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "PlayFabId": value.PlayFabId = PlayFabJson.readString(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class RevokeAllBansForUserResultAdapter extends TypeAdapter<RevokeAllBansForUserResult> {
+        private final TypeAdapter<BanInfo> banInfoAdapter;
+
+        private RevokeAllBansForUserResultAdapter(Gson gson) {
+            banInfoAdapter = gson.getAdapter(BanInfo.class);
+        }
+
+        @Override
+        public void write(JsonWriter out, RevokeAllBansForUserResult value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            PlayFabJson.writeList(out.name("BanData"), value.BanData, banInfoAdapter);
+            out.endObject();
+        }
+
+        @Override
+        public RevokeAllBansForUserResult read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            RevokeAllBansForUserResult value = new RevokeAllBansForUserResult();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "BanData": value.BanData = PlayFabJson.readList(in, banInfoAdapter); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class RevokeBansRequestAdapter extends TypeAdapter<RevokeBansRequest> {
+        private final TypeAdapter<String> stringAdapter;
+
+        private RevokeBansRequestAdapter(Gson gson) {
+            stringAdapter = gson.getAdapter(String.class);
+        }
+
+        @Override
+        public void write(JsonWriter out, RevokeBansRequest value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            PlayFabJson.writeList(out.name("BanIds"), value.BanIds, stringAdapter);
+            out.endObject();
+        }
+
+        @Override
+        public RevokeBansRequest read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            RevokeBansRequest value = new RevokeBansRequest();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "BanIds": value.BanIds = PlayFabJson.readList(in, stringAdapter); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class RevokeBansResultAdapter extends TypeAdapter<RevokeBansResult> {
+        private final TypeAdapter<BanInfo> banInfoAdapter;
+
+        private RevokeBansResultAdapter(Gson gson) {
+            banInfoAdapter = gson.getAdapter(BanInfo.class);
+        }
+
+        @Override
+        public void write(JsonWriter out, RevokeBansResult value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            PlayFabJson.writeList(out.name("BanData"), value.BanData, banInfoAdapter);
+            out.endObject();
+        }
+
+        @Override
+        public RevokeBansResult read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            RevokeBansResult value = new RevokeBansResult();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "BanData": value.BanData = PlayFabJson.readList(in, banInfoAdapter); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class RevokeInventoryItemAdapter extends TypeAdapter<RevokeInventoryItem> {
+        private RevokeInventoryItemAdapter(Gson gson) {
+        }
+
+        @Override
+        public void write(JsonWriter out, RevokeInventoryItem value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.name("CharacterId").value(value.CharacterId);
+            out.name("ItemInstanceId").value(value.ItemInstanceId);
+            out.name("PlayFabId").value(value.PlayFabId);
+            out.endObject();
+        }
+
+        @Override
+        public RevokeInventoryItem read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            RevokeInventoryItem value = new RevokeInventoryItem();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "CharacterId": value.CharacterId = PlayFabJson.readString(in); break;
+                        case "ItemInstanceId": value.ItemInstanceId = PlayFabJson.readString(in); break;
+                        case "PlayFabId": value.PlayFabId = PlayFabJson.readString(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class RevokeInventoryItemRequestAdapter extends TypeAdapter<RevokeInventoryItemRequest> {
+        private RevokeInventoryItemRequestAdapter(Gson gson) {
+        }
+
+        @Override
+        public void write(JsonWriter out, RevokeInventoryItemRequest value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.name("CharacterId").value(value.CharacterId);
+            out.name("ItemInstanceId").value(value.ItemInstanceId);
+            out.name("PlayFabId").value(value.PlayFabId);
+            out.endObject();
+        }
+
+        @Override
+        public RevokeInventoryItemRequest read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            RevokeInventoryItemRequest value = new RevokeInventoryItemRequest();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "CharacterId": value.CharacterId = PlayFabJson.readString(in); break;
+                        case "ItemInstanceId": value.ItemInstanceId = PlayFabJson.readString(in); break;
+                        case "PlayFabId": value.PlayFabId = PlayFabJson.readString(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class RevokeInventoryItemsRequestAdapter extends TypeAdapter<RevokeInventoryItemsRequest> {
+        private final TypeAdapter<RevokeInventoryItem> revokeInventoryItemAdapter;
+
+        private RevokeInventoryItemsRequestAdapter(Gson gson) {
+            revokeInventoryItemAdapter = gson.getAdapter(RevokeInventoryItem.class);
+        }
+
+        @Override
+        public void write(JsonWriter out, RevokeInventoryItemsRequest value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            PlayFabJson.writeList(out.name("Items"), value.Items, revokeInventoryItemAdapter);
+            out.endObject();
+        }
+
+        @Override
+        public RevokeInventoryItemsRequest read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            RevokeInventoryItemsRequest value = new RevokeInventoryItemsRequest();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "Items": value.Items = PlayFabJson.readList(in, revokeInventoryItemAdapter); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class RevokeInventoryItemsResultAdapter extends TypeAdapter<RevokeInventoryItemsResult> {
+        private final TypeAdapter<RevokeItemError> revokeItemErrorAdapter;
+
+        private RevokeInventoryItemsResultAdapter(Gson gson) {
+            revokeItemErrorAdapter = gson.getAdapter(RevokeItemError.class);
+        }
+
+        @Override
+        public void write(JsonWriter out, RevokeInventoryItemsResult value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            PlayFabJson.writeList(out.name("Errors"), value.Errors, revokeItemErrorAdapter);
+            out.endObject();
+        }
+
+        @Override
+        public RevokeInventoryItemsResult read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            RevokeInventoryItemsResult value = new RevokeInventoryItemsResult();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "Errors": value.Errors = PlayFabJson.readList(in, revokeItemErrorAdapter); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class RevokeInventoryResultAdapter extends TypeAdapter<RevokeInventoryResult> {
+        private RevokeInventoryResultAdapter(Gson gson) {
+        }
+
+        @Override
+        public void write(JsonWriter out, RevokeInventoryResult value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.endObject();
+        }
+
+        @Override
+        public RevokeInventoryResult read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            RevokeInventoryResult value = new RevokeInventoryResult();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class RevokeItemErrorAdapter extends TypeAdapter<RevokeItemError> {
+        private final TypeAdapter<GenericErrorCodes> genericErrorCodesAdapter;
+        private final TypeAdapter<RevokeInventoryItem> revokeInventoryItemAdapter;
+
+        private RevokeItemErrorAdapter(Gson gson) {
+            genericErrorCodesAdapter = gson.getAdapter(GenericErrorCodes.class);
+            revokeInventoryItemAdapter = gson.getAdapter(RevokeInventoryItem.class);
+        }
+
+        @Override
+        public void write(JsonWriter out, RevokeItemError value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            genericErrorCodesAdapter.write(out.name("Error"), value.Error);
+            revokeInventoryItemAdapter.write(out.name("Item"), value.Item);
+            out.endObject();
+        }
+
+        @Override
+        public RevokeItemError read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            RevokeItemError value = new RevokeItemError();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "Error": value.Error = genericErrorCodesAdapter.read(in); break;
+                        case "Item": value.Item = revokeInventoryItemAdapter.read(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class RunTaskRequestAdapter extends TypeAdapter<RunTaskRequest> {
+        private final TypeAdapter<String> stringAdapter;
+        private final TypeAdapter<NameIdentifier> nameIdentifierAdapter;
+
+        private RunTaskRequestAdapter(Gson gson) {
+            stringAdapter = gson.getAdapter(String.class);
+            nameIdentifierAdapter = gson.getAdapter(NameIdentifier.class);
+        }
+
+        @Override
+        public void write(JsonWriter out, RunTaskRequest value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            PlayFabJson.writeMap(out.name("CustomTags"), value.CustomTags, stringAdapter);
+            nameIdentifierAdapter.write(out.name("Identifier"), value.Identifier);
+            out.endObject();
+        }
+
+        @Override
+        public RunTaskRequest read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            RunTaskRequest value = new RunTaskRequest();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "CustomTags": value.CustomTags = PlayFabJson.readMap(in, stringAdapter); break;
+                        case "Identifier": value.Identifier = nameIdentifierAdapter.read(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class RunTaskResultAdapter extends TypeAdapter<RunTaskResult> {
+        private RunTaskResultAdapter(Gson gson) {
+        }
+
+        @Override
+        public void write(JsonWriter out, RunTaskResult value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.name("TaskInstanceId").value(value.TaskInstanceId);
+            out.endObject();
+        }
+
+        @Override
+        public RunTaskResult read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            RunTaskResult value = new RunTaskResult();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "TaskInstanceId": value.TaskInstanceId = PlayFabJson.readString(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class ScheduledTaskAdapter extends TypeAdapter<ScheduledTask> {
+        private final TypeAdapter<Date> dateAdapter;
+        private final TypeAdapter<Object> objectAdapter;
+        private final TypeAdapter<ScheduledTaskType> scheduledTaskTypeAdapter;
+
+        private ScheduledTaskAdapter(Gson gson) {
+            dateAdapter = gson.getAdapter(Date.class);
+            objectAdapter = gson.getAdapter(Object.class);
+            scheduledTaskTypeAdapter = gson.getAdapter(ScheduledTaskType.class);
+        }
+
+        @Override
+        public void write(JsonWriter out, ScheduledTask value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.name("Description").value(value.Description);
+            out.name("IsActive").value(value.IsActive);
+            dateAdapter.write(out.name("LastRunTime"), value.LastRunTime);
+            out.name("Name").value(value.Name);
+            dateAdapter.write(out.name("NextRunTime"), value.NextRunTime);
+            objectAdapter.write(out.name("Parameter"), value.Parameter);
+            out.name("Schedule").value(value.Schedule);
+            out.name("TaskId").value(value.TaskId);
+            scheduledTaskTypeAdapter.write(out.name("Type"), value.Type);
+            out.endObject();
+        }
+
+        @Override
+        public ScheduledTask read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            ScheduledTask value = new ScheduledTask();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "Description": value.Description = PlayFabJson.readString(in); break;
+                        case "IsActive": value.IsActive = PlayFabJson.readBoolean(in); break;
+                        case "LastRunTime": value.LastRunTime = dateAdapter.read(in); break;
+                        case "Name": value.Name = PlayFabJson.readString(in); break;
+                        case "NextRunTime": value.NextRunTime = dateAdapter.read(in); break;
+                        case "Parameter": value.Parameter = objectAdapter.read(in); break;
+                        case "Schedule": value.Schedule = PlayFabJson.readString(in); break;
+                        case "TaskId": value.TaskId = PlayFabJson.readString(in); break;
+                        case "Type": value.Type = scheduledTaskTypeAdapter.read(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class ScriptExecutionErrorAdapter extends TypeAdapter<ScriptExecutionError> {
+        private ScriptExecutionErrorAdapter(Gson gson) {
+        }
+
+        @Override
+        public void write(JsonWriter out, ScriptExecutionError value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.name("Error").value(value.Error);
+            out.name("Message").value(value.Message);
+            out.name("StackTrace").value(value.StackTrace);
+            out.endObject();
+        }
+
+        @Override
+        public ScriptExecutionError read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            ScriptExecutionError value = new ScriptExecutionError();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "Error": value.Error = PlayFabJson.readString(in); break;
+                        case "Message": value.Message = PlayFabJson.readString(in); break;
+                        case "StackTrace": value.StackTrace = PlayFabJson.readString(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class SegmentAndDefinitionAdapter extends TypeAdapter<SegmentAndDefinition> {
+        private final TypeAdapter<AdCampaignSegmentFilter> adCampaignSegmentFilterAdapter;
+        private final TypeAdapter<AllPlayersSegmentFilter> allPlayersSegmentFilterAdapter;
+        private final TypeAdapter<FirstLoginDateSegmentFilter> firstLoginDateSegmentFilterAdapter;
+        private final TypeAdapter<FirstLoginTimespanSegmentFilter> firstLoginTimespanSegmentFilterAdapter;
+        private final TypeAdapter<LastLoginDateSegmentFilter> lastLoginDateSegmentFilterAdapter;
+        private final TypeAdapter<LastLoginTimespanSegmentFilter> lastLoginTimespanSegmentFilterAdapter;
+        private final TypeAdapter<LinkedUserAccountSegmentFilter> linkedUserAccountSegmentFilterAdapter;
+        private final TypeAdapter<LinkedUserAccountHasEmailSegmentFilter> linkedUserAccountHasEmailSegmentFilterAdapter;
+        private final TypeAdapter<LocationSegmentFilter> locationSegmentFilterAdapter;
+        private final TypeAdapter<PushNotificationSegmentFilter> pushNotificationSegmentFilterAdapter;
+        private final TypeAdapter<StatisticSegmentFilter> statisticSegmentFilterAdapter;
+        private final TypeAdapter<TagSegmentFilter> tagSegmentFilterAdapter;
+        private final TypeAdapter<TotalValueToDateInUSDSegmentFilter> totalValueToDateInUSDSegmentFilterAdapter;
+        private final TypeAdapter<UserOriginationSegmentFilter> userOriginationSegmentFilterAdapter;
+        private final TypeAdapter<ValueToDateSegmentFilter> valueToDateSegmentFilterAdapter;
+        private final TypeAdapter<VirtualCurrencyBalanceSegmentFilter> virtualCurrencyBalanceSegmentFilterAdapter;
+
+        private SegmentAndDefinitionAdapter(Gson gson) {
+            adCampaignSegmentFilterAdapter = gson.getAdapter(AdCampaignSegmentFilter.class);
+            allPlayersSegmentFilterAdapter = gson.getAdapter(AllPlayersSegmentFilter.class);
+            firstLoginDateSegmentFilterAdapter = gson.getAdapter(FirstLoginDateSegmentFilter.class);
+            firstLoginTimespanSegmentFilterAdapter = gson.getAdapter(FirstLoginTimespanSegmentFilter.class);
+            lastLoginDateSegmentFilterAdapter = gson.getAdapter(LastLoginDateSegmentFilter.class);
+            lastLoginTimespanSegmentFilterAdapter = gson.getAdapter(LastLoginTimespanSegmentFilter.class);
+            linkedUserAccountSegmentFilterAdapter = gson.getAdapter(LinkedUserAccountSegmentFilter.class);
+            linkedUserAccountHasEmailSegmentFilterAdapter = gson.getAdapter(LinkedUserAccountHasEmailSegmentFilter.class);
+            locationSegmentFilterAdapter = gson.getAdapter(LocationSegmentFilter.class);
+            pushNotificationSegmentFilterAdapter = gson.getAdapter(PushNotificationSegmentFilter.class);
+            statisticSegmentFilterAdapter = gson.getAdapter(StatisticSegmentFilter.class);
+            tagSegmentFilterAdapter = gson.getAdapter(TagSegmentFilter.class);
+            totalValueToDateInUSDSegmentFilterAdapter = gson.getAdapter(TotalValueToDateInUSDSegmentFilter.class);
+            userOriginationSegmentFilterAdapter = gson.getAdapter(UserOriginationSegmentFilter.class);
+            valueToDateSegmentFilterAdapter = gson.getAdapter(ValueToDateSegmentFilter.class);
+            virtualCurrencyBalanceSegmentFilterAdapter = gson.getAdapter(VirtualCurrencyBalanceSegmentFilter.class);
+        }
+
+        @Override
+        public void write(JsonWriter out, SegmentAndDefinition value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            adCampaignSegmentFilterAdapter.write(out.name("AdCampaignFilter"), value.AdCampaignFilter);
+            allPlayersSegmentFilterAdapter.write(out.name("AllPlayersFilter"), value.AllPlayersFilter);
+            firstLoginDateSegmentFilterAdapter.write(out.name("FirstLoginDateFilter"), value.FirstLoginDateFilter);
+            firstLoginTimespanSegmentFilterAdapter.write(out.name("FirstLoginFilter"), value.FirstLoginFilter);
+            lastLoginDateSegmentFilterAdapter.write(out.name("LastLoginDateFilter"), value.LastLoginDateFilter);
+            lastLoginTimespanSegmentFilterAdapter.write(out.name("LastLoginFilter"), value.LastLoginFilter);
+            linkedUserAccountSegmentFilterAdapter.write(out.name("LinkedUserAccountFilter"), value.LinkedUserAccountFilter);
+            linkedUserAccountHasEmailSegmentFilterAdapter.write(out.name("LinkedUserAccountHasEmailFilter"), value.LinkedUserAccountHasEmailFilter);
+            locationSegmentFilterAdapter.write(out.name("LocationFilter"), value.LocationFilter);
+            pushNotificationSegmentFilterAdapter.write(out.name("PushNotificationFilter"), value.PushNotificationFilter);
+            statisticSegmentFilterAdapter.write(out.name("StatisticFilter"), value.StatisticFilter);
+            tagSegmentFilterAdapter.write(out.name("TagFilter"), value.TagFilter);
+            totalValueToDateInUSDSegmentFilterAdapter.write(out.name("TotalValueToDateInUSDFilter"), value.TotalValueToDateInUSDFilter);
+            userOriginationSegmentFilterAdapter.write(out.name("UserOriginationFilter"), value.UserOriginationFilter);
+            valueToDateSegmentFilterAdapter.write(out.name("ValueToDateFilter"), value.ValueToDateFilter);
+            virtualCurrencyBalanceSegmentFilterAdapter.write(out.name("VirtualCurrencyBalanceFilter"), value.VirtualCurrencyBalanceFilter);
+            out.endObject();
+        }
+
+        @Override
+        public SegmentAndDefinition read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            SegmentAndDefinition value = new SegmentAndDefinition();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "AdCampaignFilter": value.AdCampaignFilter = adCampaignSegmentFilterAdapter.read(in); break;
+                        case "AllPlayersFilter": value.AllPlayersFilter = allPlayersSegmentFilterAdapter.read(in); break;
+                        case "FirstLoginDateFilter": value.FirstLoginDateFilter = firstLoginDateSegmentFilterAdapter.read(in); break;
+                        case "FirstLoginFilter": value.FirstLoginFilter = firstLoginTimespanSegmentFilterAdapter.read(in); break;
+                        case "LastLoginDateFilter": value.LastLoginDateFilter = lastLoginDateSegmentFilterAdapter.read(in); break;
+                        case "LastLoginFilter": value.LastLoginFilter = lastLoginTimespanSegmentFilterAdapter.read(in); break;
+                        case "LinkedUserAccountFilter": value.LinkedUserAccountFilter = linkedUserAccountSegmentFilterAdapter.read(in); break;
+                        case "LinkedUserAccountHasEmailFilter": value.LinkedUserAccountHasEmailFilter = linkedUserAccountHasEmailSegmentFilterAdapter.read(in); break;
+                        case "LocationFilter": value.LocationFilter = locationSegmentFilterAdapter.read(in); break;
+                        case "PushNotificationFilter": value.PushNotificationFilter = pushNotificationSegmentFilterAdapter.read(in); break;
+                        case "StatisticFilter": value.StatisticFilter = statisticSegmentFilterAdapter.read(in); break;
+                        case "TagFilter": value.TagFilter = tagSegmentFilterAdapter.read(in); break;
+                        case "TotalValueToDateInUSDFilter": value.TotalValueToDateInUSDFilter = totalValueToDateInUSDSegmentFilterAdapter.read(in); break;
+                        case "UserOriginationFilter": value.UserOriginationFilter = userOriginationSegmentFilterAdapter.read(in); break;
+                        case "ValueToDateFilter": value.ValueToDateFilter = valueToDateSegmentFilterAdapter.read(in); break;
+                        case "VirtualCurrencyBalanceFilter": value.VirtualCurrencyBalanceFilter = virtualCurrencyBalanceSegmentFilterAdapter.read(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class SegmentModelAdapter extends TypeAdapter<SegmentModel> {
+        private final TypeAdapter<SegmentTrigger> segmentTriggerAdapter;
+        private final TypeAdapter<Date> dateAdapter;
+        private final TypeAdapter<SegmentOrDefinition> segmentOrDefinitionAdapter;
+
+        private SegmentModelAdapter(Gson gson) {
+            segmentTriggerAdapter = gson.getAdapter(SegmentTrigger.class);
+            dateAdapter = gson.getAdapter(Date.class);
+            segmentOrDefinitionAdapter = gson.getAdapter(SegmentOrDefinition.class);
+        }
+
+        @Override
+        public void write(JsonWriter out, SegmentModel value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.name("AzureResourceId").value(value.AzureResourceId);
+            out.name("Description").value(value.Description);
+            PlayFabJson.writeList(out.name("EnteredSegmentActions"), value.EnteredSegmentActions, segmentTriggerAdapter);
+            dateAdapter.write(out.name("LastUpdateTime"), value.LastUpdateTime);
+            PlayFabJson.writeList(out.name("LeftSegmentActions"), value.LeftSegmentActions, segmentTriggerAdapter);
+            out.name("Name").value(value.Name);
+            out.name("SegmentId").value(value.SegmentId);
+            PlayFabJson.writeList(out.name("SegmentOrDefinitions"), value.SegmentOrDefinitions, segmentOrDefinitionAdapter);
+            out.endObject();
+        }
+
+        @Override
+        public SegmentModel read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            SegmentModel value = new SegmentModel();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "AzureResourceId": value.AzureResourceId = PlayFabJson.readString(in); break;
+                        case "Description": value.Description = PlayFabJson.readString(in); break;
+                        case "EnteredSegmentActions": value.EnteredSegmentActions = PlayFabJson.readList(in, segmentTriggerAdapter); break;
+                        case "LastUpdateTime": value.LastUpdateTime = dateAdapter.read(in); break;
+                        case "LeftSegmentActions": value.LeftSegmentActions = PlayFabJson.readList(in, segmentTriggerAdapter); break;
+                        case "Name": value.Name = PlayFabJson.readString(in); break;
+                        case "SegmentId": value.SegmentId = PlayFabJson.readString(in); break;
+                        case "SegmentOrDefinitions": value.SegmentOrDefinitions = PlayFabJson.readList(in, segmentOrDefinitionAdapter); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class SegmentOrDefinitionAdapter extends TypeAdapter<SegmentOrDefinition> {
+        private final TypeAdapter<SegmentAndDefinition> segmentAndDefinitionAdapter;
+
+        private SegmentOrDefinitionAdapter(Gson gson) {
+            segmentAndDefinitionAdapter = gson.getAdapter(SegmentAndDefinition.class);
+        }
+
+        @Override
+        public void write(JsonWriter out, SegmentOrDefinition value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            PlayFabJson.writeList(out.name("SegmentAndDefinitions"), value.SegmentAndDefinitions, segmentAndDefinitionAdapter);
+            out.endObject();
+        }
+
+        @Override
+        public SegmentOrDefinition read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            SegmentOrDefinition value = new SegmentOrDefinition();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "SegmentAndDefinitions": value.SegmentAndDefinitions = PlayFabJson.readList(in, segmentAndDefinitionAdapter); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class SegmentTriggerAdapter extends TypeAdapter<SegmentTrigger> {
+        private final TypeAdapter<BanPlayerSegmentAction> banPlayerSegmentActionAdapter;
+        private final TypeAdapter<DeletePlayerSegmentAction> deletePlayerSegmentActionAdapter;
+        private final TypeAdapter<DeletePlayerStatisticSegmentAction> deletePlayerStatisticSegmentActionAdapter;
+        private final TypeAdapter<EmailNotificationSegmentAction> emailNotificationSegmentActionAdapter;
+        private final TypeAdapter<ExecuteAzureFunctionSegmentAction> executeAzureFunctionSegmentActionAdapter;
+        private final TypeAdapter<ExecuteCloudScriptSegmentAction> executeCloudScriptSegmentActionAdapter;
+        private final TypeAdapter<GrantItemSegmentAction> grantItemSegmentActionAdapter;
+        private final TypeAdapter<GrantVirtualCurrencySegmentAction> grantVirtualCurrencySegmentActionAdapter;
+        private final TypeAdapter<IncrementPlayerStatisticSegmentAction> incrementPlayerStatisticSegmentActionAdapter;
+        private final TypeAdapter<PushNotificationSegmentAction> pushNotificationSegmentActionAdapter;
+
+        private SegmentTriggerAdapter(Gson gson) {
+            banPlayerSegmentActionAdapter = gson.getAdapter(BanPlayerSegmentAction.class);
+            deletePlayerSegmentActionAdapter = gson.getAdapter(DeletePlayerSegmentAction.class);
+            deletePlayerStatisticSegmentActionAdapter = gson.getAdapter(DeletePlayerStatisticSegmentAction.class);
+            emailNotificationSegmentActionAdapter = gson.getAdapter(EmailNotificationSegmentAction.class);
+            executeAzureFunctionSegmentActionAdapter = gson.getAdapter(ExecuteAzureFunctionSegmentAction.class);
+            executeCloudScriptSegmentActionAdapter = gson.getAdapter(ExecuteCloudScriptSegmentAction.class);
+            grantItemSegmentActionAdapter = gson.getAdapter(GrantItemSegmentAction.class);
+            grantVirtualCurrencySegmentActionAdapter = gson.getAdapter(GrantVirtualCurrencySegmentAction.class);
+            incrementPlayerStatisticSegmentActionAdapter = gson.getAdapter(IncrementPlayerStatisticSegmentAction.class);
+            pushNotificationSegmentActionAdapter = gson.getAdapter(PushNotificationSegmentAction.class);
+        }
+
+        @Override
+        public void write(JsonWriter out, SegmentTrigger value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            banPlayerSegmentActionAdapter.write(out.name("BanPlayerAction"), value.BanPlayerAction);
+            deletePlayerSegmentActionAdapter.write(out.name("DeletePlayerAction"), value.DeletePlayerAction);
+            deletePlayerStatisticSegmentActionAdapter.write(out.name("DeletePlayerStatisticAction"), value.DeletePlayerStatisticAction);
+            emailNotificationSegmentActionAdapter.write(out.name("EmailNotificationAction"), value.EmailNotificationAction);
+            executeAzureFunctionSegmentActionAdapter.write(out.name("ExecuteAzureFunctionAction"), value.ExecuteAzureFunctionAction);
+            executeCloudScriptSegmentActionAdapter.write(out.name("ExecuteCloudScriptAction"), value.ExecuteCloudScriptAction);
+            grantItemSegmentActionAdapter.write(out.name("GrantItemAction"), value.GrantItemAction);
+            grantVirtualCurrencySegmentActionAdapter.write(out.name("GrantVirtualCurrencyAction"), value.GrantVirtualCurrencyAction);
+            incrementPlayerStatisticSegmentActionAdapter.write(out.name("IncrementPlayerStatisticAction"), value.IncrementPlayerStatisticAction);
+            pushNotificationSegmentActionAdapter.write(out.name("PushNotificationAction"), value.PushNotificationAction);
+            out.endObject();
+        }
+
+        @Override
+        public SegmentTrigger read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            SegmentTrigger value = new SegmentTrigger();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "BanPlayerAction": value.BanPlayerAction = banPlayerSegmentActionAdapter.read(in); break;
+                        case "DeletePlayerAction": value.DeletePlayerAction = deletePlayerSegmentActionAdapter.read(in); break;
+                        case "DeletePlayerStatisticAction": value.DeletePlayerStatisticAction = deletePlayerStatisticSegmentActionAdapter.read(in); break;
+                        case "EmailNotificationAction": value.EmailNotificationAction = emailNotificationSegmentActionAdapter.read(in); break;
+                        case "ExecuteAzureFunctionAction": value.ExecuteAzureFunctionAction = executeAzureFunctionSegmentActionAdapter.read(in); break;
+                        case "ExecuteCloudScriptAction": value.ExecuteCloudScriptAction = executeCloudScriptSegmentActionAdapter.read(in); break;
+                        case "GrantItemAction": value.GrantItemAction = grantItemSegmentActionAdapter.read(in); break;
+                        case "GrantVirtualCurrencyAction": value.GrantVirtualCurrencyAction = grantVirtualCurrencySegmentActionAdapter.read(in); break;
+                        case "IncrementPlayerStatisticAction": value.IncrementPlayerStatisticAction = incrementPlayerStatisticSegmentActionAdapter.read(in); break;
+                        case "PushNotificationAction": value.PushNotificationAction = pushNotificationSegmentActionAdapter.read(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class SendAccountRecoveryEmailRequestAdapter extends TypeAdapter<SendAccountRecoveryEmailRequest> {
+        private final TypeAdapter<String> stringAdapter;
+
+        private SendAccountRecoveryEmailRequestAdapter(Gson gson) {
+            stringAdapter = gson.getAdapter(String.class);
+        }
+
+        @Override
+        public void write(JsonWriter out, SendAccountRecoveryEmailRequest value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            PlayFabJson.writeMap(out.name("CustomTags"), value.CustomTags, stringAdapter);
+            out.name("Email").value(value.Email);
+            out.name("EmailTemplateId").value(value.EmailTemplateId);
+            out.endObject();
+        }
+
+        @Override
+        public SendAccountRecoveryEmailRequest read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            SendAccountRecoveryEmailRequest value = new SendAccountRecoveryEmailRequest();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "CustomTags": value.CustomTags = PlayFabJson.readMap(in, stringAdapter); break;
+                        case "Email": value.Email = PlayFabJson.readString(in); break;
+                        case "EmailTemplateId": value.EmailTemplateId = PlayFabJson.readString(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class SendAccountRecoveryEmailResultAdapter extends TypeAdapter<SendAccountRecoveryEmailResult> {
+        private SendAccountRecoveryEmailResultAdapter(Gson gson) {
+        }
+
+        @Override
+        public void write(JsonWriter out, SendAccountRecoveryEmailResult value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.endObject();
+        }
+
+        @Override
+        public SendAccountRecoveryEmailResult read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            SendAccountRecoveryEmailResult value = new SendAccountRecoveryEmailResult();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class SetMembershipOverrideRequestAdapter extends TypeAdapter<SetMembershipOverrideRequest> {
+        private final TypeAdapter<String> stringAdapter;
+        private final TypeAdapter<Date> dateAdapter;
+
+        private SetMembershipOverrideRequestAdapter(Gson gson) {
+            stringAdapter = gson.getAdapter(String.class);
+            dateAdapter = gson.getAdapter(Date.class);
+        }
+
+        @Override
+        public void write(JsonWriter out, SetMembershipOverrideRequest value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            PlayFabJson.writeMap(out.name("CustomTags"), value.CustomTags, stringAdapter);
+            dateAdapter.write(out.name("ExpirationTime"), value.ExpirationTime);
+            out.name("MembershipId").value(value.MembershipId);
+            out.name("PlayFabId").value(value.PlayFabId);
+            out.endObject();
+        }
+
+        @Override
+        public SetMembershipOverrideRequest read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            SetMembershipOverrideRequest value = new SetMembershipOverrideRequest();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "CustomTags": value.CustomTags = PlayFabJson.readMap(in, stringAdapter); break;
+                        case "ExpirationTime": value.ExpirationTime = dateAdapter.read(in); break;
+                        case "MembershipId": value.MembershipId = PlayFabJson.readString(in); break;
+                        case "PlayFabId": value.PlayFabId = PlayFabJson.readString(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class SetMembershipOverrideResultAdapter extends TypeAdapter<SetMembershipOverrideResult> {
+        private SetMembershipOverrideResultAdapter(Gson gson) {
+        }
+
+        @Override
+        public void write(JsonWriter out, SetMembershipOverrideResult value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.endObject();
+        }
+
+        @Override
+        public SetMembershipOverrideResult read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            SetMembershipOverrideResult value = new SetMembershipOverrideResult();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class SetPlayerSecretRequestAdapter extends TypeAdapter<SetPlayerSecretRequest> {
+        private SetPlayerSecretRequestAdapter(Gson gson) {
+        }
+
+        @Override
+        public void write(JsonWriter out, SetPlayerSecretRequest value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.name("PlayerSecret").value(value.PlayerSecret);
+            out.name("PlayFabId").value(value.PlayFabId);
+            out.endObject();
+        }
+
+        @Override
+        public SetPlayerSecretRequest read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            SetPlayerSecretRequest value = new SetPlayerSecretRequest();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "PlayerSecret": value.PlayerSecret = PlayFabJson.readString(in); break;
+                        case "PlayFabId": value.PlayFabId = PlayFabJson.readString(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class SetPlayerSecretResultAdapter extends TypeAdapter<SetPlayerSecretResult> {
+        private SetPlayerSecretResultAdapter(Gson gson) {
+        }
+
+        @Override
+        public void write(JsonWriter out, SetPlayerSecretResult value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.endObject();
+        }
+
+        @Override
+        public SetPlayerSecretResult read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            SetPlayerSecretResult value = new SetPlayerSecretResult();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class SetPublishedRevisionRequestAdapter extends TypeAdapter<SetPublishedRevisionRequest> {
+        private final TypeAdapter<String> stringAdapter;
+
+        private SetPublishedRevisionRequestAdapter(Gson gson) {
+            stringAdapter = gson.getAdapter(String.class);
+        }
+
+        @Override
+        public void write(JsonWriter out, SetPublishedRevisionRequest value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            PlayFabJson.writeMap(out.name("CustomTags"), value.CustomTags, stringAdapter);
+            out.name("Revision").value(value.Revision);
+            out.name("Version").value(value.Version);
+            out.endObject();
+        }
+
+        @Override
+        public SetPublishedRevisionRequest read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            SetPublishedRevisionRequest value = new SetPublishedRevisionRequest();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "CustomTags": value.CustomTags = PlayFabJson.readMap(in, stringAdapter); break;
+                        case "Revision": value.Revision = PlayFabJson.readInteger(in); break;
+                        case "Version": value.Version = PlayFabJson.readInteger(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class SetPublishedRevisionResultAdapter extends TypeAdapter<SetPublishedRevisionResult> {
+        private SetPublishedRevisionResultAdapter(Gson gson) {
+        }
+
+        @Override
+        public void write(JsonWriter out, SetPublishedRevisionResult value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.endObject();
+        }
+
+        @Override
+        public SetPublishedRevisionResult read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            SetPublishedRevisionResult value = new SetPublishedRevisionResult();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class SetPublisherDataRequestAdapter extends TypeAdapter<SetPublisherDataRequest> {
+        private SetPublisherDataRequestAdapter(Gson gson) {
+        }
+
+        @Override
+        public void write(JsonWriter out, SetPublisherDataRequest value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.name("Key").value(value.Key);
+            out.name("Value").value(value.Value);
+            out.endObject();
+        }
+
+        @Override
+        public SetPublisherDataRequest read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            SetPublisherDataRequest value = new SetPublisherDataRequest();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "Key": value.Key = PlayFabJson.readString(in); break;
+                        case "Value": value.Value = PlayFabJson.readString(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class SetPublisherDataResultAdapter extends TypeAdapter<SetPublisherDataResult> {
+        private SetPublisherDataResultAdapter(Gson gson) {
+        }
+
+        @Override
+        public void write(JsonWriter out, SetPublisherDataResult value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.endObject();
+        }
+
+        @Override
+        public SetPublisherDataResult read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            SetPublisherDataResult value = new SetPublisherDataResult();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class SetTitleDataAndOverridesRequestAdapter extends TypeAdapter<SetTitleDataAndOverridesRequest> {
+        private final TypeAdapter<TitleDataKeyValue> titleDataKeyValueAdapter;
+
+        private SetTitleDataAndOverridesRequestAdapter(Gson gson) {
+            titleDataKeyValueAdapter = gson.getAdapter(TitleDataKeyValue.class);
+        }
+
+        @Override
+        public void write(JsonWriter out, SetTitleDataAndOverridesRequest value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            PlayFabJson.writeList(out.name("KeyValues"), value.KeyValues, titleDataKeyValueAdapter);
+            out.name("OverrideLabel").value(value.OverrideLabel);
+            out.endObject();
+        }
+
+        @Override
+        public SetTitleDataAndOverridesRequest read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            SetTitleDataAndOverridesRequest value = new SetTitleDataAndOverridesRequest();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "KeyValues": value.KeyValues = PlayFabJson.readList(in, titleDataKeyValueAdapter); break;
+                        case "OverrideLabel": value.OverrideLabel = PlayFabJson.readString(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class SetTitleDataAndOverridesResultAdapter extends TypeAdapter<SetTitleDataAndOverridesResult> {
+        private SetTitleDataAndOverridesResultAdapter(Gson gson) {
+        }
+
+        @Override
+        public void write(JsonWriter out, SetTitleDataAndOverridesResult value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.endObject();
+        }
+
+        @Override
+        public SetTitleDataAndOverridesResult read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            SetTitleDataAndOverridesResult value = new SetTitleDataAndOverridesResult();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class SetTitleDataRequestAdapter extends TypeAdapter<SetTitleDataRequest> {
+        private final TypeAdapter<String> stringAdapter;
+
+        private SetTitleDataRequestAdapter(Gson gson) {
+            stringAdapter = gson.getAdapter(String.class);
+        }
+
+        @Override
+        public void write(JsonWriter out, SetTitleDataRequest value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.name("AzureResourceId").value(value.AzureResourceId);
+            PlayFabJson.writeMap(out.name("CustomTags"), value.CustomTags, stringAdapter);
+            out.name("Key").value(value.Key);
+            out.name("TitleId").value(value.TitleId);
+            out.name("Value").value(value.Value);
+            out.endObject();
+        }
+
+        @Override
+        public SetTitleDataRequest read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            SetTitleDataRequest value = new SetTitleDataRequest();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "AzureResourceId": value.AzureResourceId = PlayFabJson.readString(in); break;
+                        case "CustomTags": value.CustomTags = PlayFabJson.readMap(in, stringAdapter); break;
+                        case "Key": value.Key = PlayFabJson.readString(in); break;
+                        case "TitleId": value.TitleId = PlayFabJson.readString(in); break;
+                        case "Value": value.Value = PlayFabJson.readString(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class SetTitleDataResultAdapter extends TypeAdapter<SetTitleDataResult> {
+        private SetTitleDataResultAdapter(Gson gson) {
+        }
+
+        @Override
+        public void write(JsonWriter out, SetTitleDataResult value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.name("AzureResourceId").value(value.AzureResourceId);
+            out.endObject();
+        }
+
+        @Override
+        public SetTitleDataResult read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            SetTitleDataResult value = new SetTitleDataResult();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "AzureResourceId": value.AzureResourceId = PlayFabJson.readString(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class SetupPushNotificationRequestAdapter extends TypeAdapter<SetupPushNotificationRequest> {
+        private final TypeAdapter<PushSetupPlatform> pushSetupPlatformAdapter;
+
+        private SetupPushNotificationRequestAdapter(Gson gson) {
+            pushSetupPlatformAdapter = gson.getAdapter(PushSetupPlatform.class);
+        }
+
+        @Override
+        public void write(JsonWriter out, SetupPushNotificationRequest value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.name("Credential").value(value.Credential);
+            out.name("Key").value(value.Key);
+            out.name("Name").value(value.Name);
+            out.name("OverwriteOldARN").value(value.OverwriteOldARN);
+            pushSetupPlatformAdapter.write(out.name("Platform"), value.Platform);
+            out.endObject();
+        }
+
+        @Override
+        public SetupPushNotificationRequest read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            SetupPushNotificationRequest value = new SetupPushNotificationRequest();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "Credential": value.Credential = PlayFabJson.readString(in); break;
+                        case "Key": value.Key = PlayFabJson.readString(in); break;
+                        case "Name": value.Name = PlayFabJson.readString(in); break;
+                        case "OverwriteOldARN": value.OverwriteOldARN = PlayFabJson.readBoolean(in); break;
+                        case "Platform": value.Platform = pushSetupPlatformAdapter.read(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class SetupPushNotificationResultAdapter extends TypeAdapter<SetupPushNotificationResult> {
+        private SetupPushNotificationResultAdapter(Gson gson) {
+        }
+
+        @Override
+        public void write(JsonWriter out, SetupPushNotificationResult value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.name("ARN").value(value.ARN);
+            out.endObject();
+        }
+
+        @Override
+        public SetupPushNotificationResult read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            SetupPushNotificationResult value = new SetupPushNotificationResult();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "ARN": value.ARN = PlayFabJson.readString(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class SharedSecretAdapter extends TypeAdapter<SharedSecret> {
+        private SharedSecretAdapter(Gson gson) {
+        }
+
+        @Override
+        public void write(JsonWriter out, SharedSecret value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.name("Disabled").value(value.Disabled);
+            out.name("FriendlyName").value(value.FriendlyName);
+            out.name("SecretKey").value(value.SecretKey);
+            out.endObject();
+        }
+
+        @Override
+        public SharedSecret read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            SharedSecret value = new SharedSecret();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "Disabled": value.Disabled = PlayFabJson.readBoolean(in); break;
+                        case "FriendlyName": value.FriendlyName = PlayFabJson.readString(in); break;
+                        case "SecretKey": value.SecretKey = PlayFabJson.readString(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class StatisticModelAdapter extends TypeAdapter<StatisticModel> {
+        private StatisticModelAdapter(Gson gson) {
+        }
+
+        @Override
+        public void write(JsonWriter out, StatisticModel value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.name("Name").value(value.Name);
+            out.name("Value").value(value.Value);
+            out.name("Version").value(value.Version);
+            out.endObject();
+        }
+
+        @Override
+        public StatisticModel read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            StatisticModel value = new StatisticModel();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "Name": value.Name = PlayFabJson.readString(in); break;
+                        case "Value": value.Value = PlayFabJson.readInteger(in); break;
+                        case "Version": value.Version = PlayFabJson.readInteger(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class StatisticSegmentFilterAdapter extends TypeAdapter<StatisticSegmentFilter> {
+        private final TypeAdapter<SegmentFilterComparison> segmentFilterComparisonAdapter;
+
+        private StatisticSegmentFilterAdapter(Gson gson) {
+            segmentFilterComparisonAdapter = gson.getAdapter(SegmentFilterComparison.class);
+        }
+
+        @Override
+        public void write(JsonWriter out, StatisticSegmentFilter value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            segmentFilterComparisonAdapter.write(out.name("Comparison"), value.Comparison);
+            out.name("FilterValue").value(value.FilterValue);
+            out.name("Name").value(value.Name);
+            out.name("UseCurrentVersion").value(value.UseCurrentVersion);
+            out.name("Version").value(value.Version);
+            out.endObject();
+        }
+
+        @Override
+        public StatisticSegmentFilter read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            StatisticSegmentFilter value = new StatisticSegmentFilter();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "Comparison": value.Comparison = segmentFilterComparisonAdapter.read(in); break;
+                        case "FilterValue": value.FilterValue = PlayFabJson.readString(in); break;
+                        case "Name": value.Name = PlayFabJson.readString(in); break;
+                        case "UseCurrentVersion": value.UseCurrentVersion = PlayFabJson.readBoolean(in); break;
+                        case "Version": value.Version = PlayFabJson.readInteger(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class StoreItemAdapter extends TypeAdapter<StoreItem> {
+        private final TypeAdapter<Object> objectAdapter;
+        private final TypeAdapter<Long> longAdapter;
+
+        private StoreItemAdapter(Gson gson) {
+            objectAdapter = gson.getAdapter(Object.class);
+            longAdapter = gson.getAdapter(Long.class);
+        }
+
+        @Override
+        public void write(JsonWriter out, StoreItem value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            objectAdapter.write(out.name("CustomData"), value.CustomData);
+            out.name("DisplayPosition").value(value.DisplayPosition);
+            out.name("ItemId").value(value.ItemId);
+            PlayFabJson.writeMap(out.name("RealCurrencyPrices"), value.RealCurrencyPrices, longAdapter);
+            PlayFabJson.writeMap(out.name("VirtualCurrencyPrices"), value.VirtualCurrencyPrices, longAdapter);
+            out.endObject();
+        }
+
+        @Override
+        public StoreItem read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            StoreItem value = new StoreItem();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "CustomData": value.CustomData = objectAdapter.read(in); break;
+                        case "DisplayPosition": value.DisplayPosition = PlayFabJson.readLong(in); break;
+                        case "ItemId": value.ItemId = PlayFabJson.readString(in); break;
+                        case "RealCurrencyPrices": value.RealCurrencyPrices = PlayFabJson.readMap(in, longAdapter); break;
+                        case "VirtualCurrencyPrices": value.VirtualCurrencyPrices = PlayFabJson.readMap(in, longAdapter); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class StoreMarketingModelAdapter extends TypeAdapter<StoreMarketingModel> {
+        private final TypeAdapter<Object> objectAdapter;
+
+        private StoreMarketingModelAdapter(Gson gson) {
+            objectAdapter = gson.getAdapter(Object.class);
+        }
+
+        @Override
+        public void write(JsonWriter out, StoreMarketingModel value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.name("Description").value(value.Description);
+            out.name("DisplayName").value(value.DisplayName);
+            objectAdapter.write(out.name("Metadata"), value.Metadata);
+            out.endObject();
+        }
+
+        @Override
+        public StoreMarketingModel read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            StoreMarketingModel value = new StoreMarketingModel();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "Description": value.Description = PlayFabJson.readString(in); break;
+                        case "DisplayName": value.DisplayName = PlayFabJson.readString(in); break;
+                        case "Metadata": value.Metadata = objectAdapter.read(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class SubscriptionModelAdapter extends TypeAdapter<SubscriptionModel> {
+        private final TypeAdapter<Date> dateAdapter;
+        private final TypeAdapter<SubscriptionProviderStatus> subscriptionProviderStatusAdapter;
+
+        private SubscriptionModelAdapter(Gson gson) {
+            dateAdapter = gson.getAdapter(Date.class);
+            subscriptionProviderStatusAdapter = gson.getAdapter(SubscriptionProviderStatus.class);
+        }
+
+        @Override
+        public void write(JsonWriter out, SubscriptionModel value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            dateAdapter.write(out.name("Expiration"), value.Expiration);
+            dateAdapter.write(out.name("InitialSubscriptionTime"), value.InitialSubscriptionTime);
+            out.name("IsActive").value(value.IsActive);
+            subscriptionProviderStatusAdapter.write(out.name("Status"), value.Status);
+            out.name("SubscriptionId").value(value.SubscriptionId);
+            out.name("SubscriptionItemId").value(value.SubscriptionItemId);
+            out.name("SubscriptionProvider").value(value.SubscriptionProvider);
+            out.endObject();
+        }
+
+        @Override
+        public SubscriptionModel read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            SubscriptionModel value = new SubscriptionModel();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "Expiration": value.Expiration = dateAdapter.read(in); break;
+                        case "InitialSubscriptionTime": value.InitialSubscriptionTime = dateAdapter.read(in); break;
+                        case "IsActive": value.IsActive = PlayFabJson.readBoolean(in); break;
+                        case "Status": value.Status = subscriptionProviderStatusAdapter.read(in); break;
+                        case "SubscriptionId": value.SubscriptionId = PlayFabJson.readString(in); break;
+                        case "SubscriptionItemId": value.SubscriptionItemId = PlayFabJson.readString(in); break;
+                        case "SubscriptionProvider": value.SubscriptionProvider = PlayFabJson.readString(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class SubtractUserVirtualCurrencyRequestAdapter extends TypeAdapter<SubtractUserVirtualCurrencyRequest> {
+        private final TypeAdapter<String> stringAdapter;
+
+        private SubtractUserVirtualCurrencyRequestAdapter(Gson gson) {
+            stringAdapter = gson.getAdapter(String.class);
+        }
+
+        @Override
+        public void write(JsonWriter out, SubtractUserVirtualCurrencyRequest value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.name("Amount").value(value.Amount);
+            PlayFabJson.writeMap(out.name("CustomTags"), value.CustomTags, stringAdapter);
+            out.name("PlayFabId").value(value.PlayFabId);
+            out.name("VirtualCurrency").value(value.VirtualCurrency);
+            out.endObject();
+        }
+
+        @Override
+        public SubtractUserVirtualCurrencyRequest read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            SubtractUserVirtualCurrencyRequest value = new SubtractUserVirtualCurrencyRequest();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "Amount": value.Amount = PlayFabJson.readInteger(in); break;
+                        case "CustomTags": value.CustomTags = PlayFabJson.readMap(in, stringAdapter); break;
+                        case "PlayFabId": value.PlayFabId = PlayFabJson.readString(in); break;
+                        case "VirtualCurrency": value.VirtualCurrency = PlayFabJson.readString(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class TagModelAdapter extends TypeAdapter<TagModel> {
+        private TagModelAdapter(Gson gson) {
+        }
+
+        @Override
+        public void write(JsonWriter out, TagModel value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.name("TagValue").value(value.TagValue);
+            out.endObject();
+        }
+
+        @Override
+        public TagModel read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            TagModel value = new TagModel();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "TagValue": value.TagValue = PlayFabJson.readString(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class TagSegmentFilterAdapter extends TypeAdapter<TagSegmentFilter> {
+        private final TypeAdapter<SegmentFilterComparison> segmentFilterComparisonAdapter;
+
+        private TagSegmentFilterAdapter(Gson gson) {
+            segmentFilterComparisonAdapter = gson.getAdapter(SegmentFilterComparison.class);
+        }
+
+        @Override
+        public void write(JsonWriter out, TagSegmentFilter value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            segmentFilterComparisonAdapter.write(out.name("Comparison"), value.Comparison);
+            out.name("TagValue").value(value.TagValue);
+            out.endObject();
+        }
+
+        @Override
+        public TagSegmentFilter read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            TagSegmentFilter value = new TagSegmentFilter();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "Comparison": value.Comparison = segmentFilterComparisonAdapter.read(in); break;
+                        case "TagValue": value.TagValue = PlayFabJson.readString(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class TaskInstanceBasicSummaryAdapter extends TypeAdapter<TaskInstanceBasicSummary> {
+        private final TypeAdapter<Date> dateAdapter;
+        private final TypeAdapter<Double> doubleAdapter;
+        private final TypeAdapter<TaskInstanceStatus> taskInstanceStatusAdapter;
+        private final TypeAdapter<NameIdentifier> nameIdentifierAdapter;
+        private final TypeAdapter<ScheduledTaskType> scheduledTaskTypeAdapter;
+
+        private TaskInstanceBasicSummaryAdapter(Gson gson) {
+            dateAdapter = gson.getAdapter(Date.class);
+            doubleAdapter = gson.getAdapter(Double.class);
+            taskInstanceStatusAdapter = gson.getAdapter(TaskInstanceStatus.class);
+            nameIdentifierAdapter = gson.getAdapter(NameIdentifier.class);
+            scheduledTaskTypeAdapter = gson.getAdapter(ScheduledTaskType.class);
+        }
+
+        @Override
+        public void write(JsonWriter out, TaskInstanceBasicSummary value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            dateAdapter.write(out.name("CompletedAt"), value.CompletedAt);
+            out.name("ErrorMessage").value(value.ErrorMessage);
+            doubleAdapter.write(out.name("EstimatedSecondsRemaining"), value.EstimatedSecondsRemaining);
+            doubleAdapter.write(out.name("PercentComplete"), value.PercentComplete);
+            out.name("ScheduledByUserId").value(value.ScheduledByUserId);
+            dateAdapter.write(out.name("StartedAt"), value.StartedAt);
+            taskInstanceStatusAdapter.write(out.name("Status"), value.Status);
+            nameIdentifierAdapter.write(out.name("TaskIdentifier"), value.TaskIdentifier);
+            out.name("TaskInstanceId").value(value.TaskInstanceId);
+            scheduledTaskTypeAdapter.write(out.name("Type"), value.Type);
+            out.endObject();
+        }
+
+        @Override
+        public TaskInstanceBasicSummary read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            TaskInstanceBasicSummary value = new TaskInstanceBasicSummary();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "CompletedAt": value.CompletedAt = dateAdapter.read(in); break;
+                        case "ErrorMessage": value.ErrorMessage = PlayFabJson.readString(in); break;
+                        case "EstimatedSecondsRemaining": value.EstimatedSecondsRemaining = doubleAdapter.read(in); break;
+                        case "PercentComplete": value.PercentComplete = doubleAdapter.read(in); break;
+                        case "ScheduledByUserId": value.ScheduledByUserId = PlayFabJson.readString(in); break;
+                        case "StartedAt": value.StartedAt = dateAdapter.read(in); break;
+                        case "Status": value.Status = taskInstanceStatusAdapter.read(in); break;
+                        case "TaskIdentifier": value.TaskIdentifier = nameIdentifierAdapter.read(in); break;
+                        case "TaskInstanceId": value.TaskInstanceId = PlayFabJson.readString(in); break;
+                        case "Type": value.Type = scheduledTaskTypeAdapter.read(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class TitleDataKeyValueAdapter extends TypeAdapter<TitleDataKeyValue> {
+        private TitleDataKeyValueAdapter(Gson gson) {
+        }
+
+        @Override
+        public void write(JsonWriter out, TitleDataKeyValue value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.name("Key").value(value.Key);
+            out.name("Value").value(value.Value);
+            out.endObject();
+        }
+
+        @Override
+        public TitleDataKeyValue read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            TitleDataKeyValue value = new TitleDataKeyValue();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "Key": value.Key = PlayFabJson.readString(in); break;
+                        case "Value": value.Value = PlayFabJson.readString(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class TotalValueToDateInUSDSegmentFilterAdapter extends TypeAdapter<TotalValueToDateInUSDSegmentFilter> {
+        private final TypeAdapter<SegmentFilterComparison> segmentFilterComparisonAdapter;
+
+        private TotalValueToDateInUSDSegmentFilterAdapter(Gson gson) {
+            segmentFilterComparisonAdapter = gson.getAdapter(SegmentFilterComparison.class);
+        }
+
+        @Override
+        public void write(JsonWriter out, TotalValueToDateInUSDSegmentFilter value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.name("Amount").value(value.Amount);
+            segmentFilterComparisonAdapter.write(out.name("Comparison"), value.Comparison);
+            out.endObject();
+        }
+
+        @Override
+        public TotalValueToDateInUSDSegmentFilter read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            TotalValueToDateInUSDSegmentFilter value = new TotalValueToDateInUSDSegmentFilter();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "Amount": value.Amount = PlayFabJson.readString(in); break;
+                        case "Comparison": value.Comparison = segmentFilterComparisonAdapter.read(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class UpdateBanRequestAdapter extends TypeAdapter<UpdateBanRequest> {
+        private final TypeAdapter<Date> dateAdapter;
+
+        private UpdateBanRequestAdapter(Gson gson) {
+            dateAdapter = gson.getAdapter(Date.class);
+        }
+
+        @Override
+        public void write(JsonWriter out, UpdateBanRequest value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.name("Active").value(value.Active);
+            out.name("BanId").value(value.BanId);
+            dateAdapter.write(out.name("Expires"), value.Expires);
+            out.name("IPAddress").value(value.IPAddress);
+            out.name("MACAddress").value(value.MACAddress);
+            out.name("Permanent").value(value.Permanent);
+            out.name("Reason").value(value.Reason);
+            out.endObject();
+        }
+
+        @Override
+        public UpdateBanRequest read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            UpdateBanRequest value = new UpdateBanRequest();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "Active": value.Active = PlayFabJson.readBoolean(in); break;
+                        case "BanId": value.BanId = PlayFabJson.readString(in); break;
+                        case "Expires": value.Expires = dateAdapter.read(in); break;
+                        case "IPAddress": value.IPAddress = PlayFabJson.readString(in); break;
+                        case "MACAddress": value.MACAddress = PlayFabJson.readString(in); break;
+                        case "Permanent": value.Permanent = PlayFabJson.readBoolean(in); break;
+                        case "Reason": value.Reason = PlayFabJson.readString(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class UpdateBansRequestAdapter extends TypeAdapter<UpdateBansRequest> {
+        private final TypeAdapter<UpdateBanRequest> updateBanRequestAdapter;
+
+        private UpdateBansRequestAdapter(Gson gson) {
+            updateBanRequestAdapter = gson.getAdapter(UpdateBanRequest.class);
+        }
+
+        @Override
+        public void write(JsonWriter out, UpdateBansRequest value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            PlayFabJson.writeList(out.name("Bans"), value.Bans, updateBanRequestAdapter);
+            out.endObject();
+        }
+
+        @Override
+        public UpdateBansRequest read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            UpdateBansRequest value = new UpdateBansRequest();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "Bans": value.Bans = PlayFabJson.readList(in, updateBanRequestAdapter); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class UpdateBansResultAdapter extends TypeAdapter<UpdateBansResult> {
+        private final TypeAdapter<BanInfo> banInfoAdapter;
+
+        private UpdateBansResultAdapter(Gson gson) {
+            banInfoAdapter = gson.getAdapter(BanInfo.class);
+        }
+
+        @Override
+        public void write(JsonWriter out, UpdateBansResult value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            PlayFabJson.writeList(out.name("BanData"), value.BanData, banInfoAdapter);
+            out.endObject();
+        }
+
+        @Override
+        public UpdateBansResult read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            UpdateBansResult value = new UpdateBansResult();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "BanData": value.BanData = PlayFabJson.readList(in, banInfoAdapter); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class UpdateCatalogItemsRequestAdapter extends TypeAdapter<UpdateCatalogItemsRequest> {
+        private final TypeAdapter<CatalogItem> catalogItemAdapter;
+        private final TypeAdapter<String> stringAdapter;
+
+        private UpdateCatalogItemsRequestAdapter(Gson gson) {
+            catalogItemAdapter = gson.getAdapter(CatalogItem.class);
+            stringAdapter = gson.getAdapter(String.class);
+        }
+
+        @Override
+        public void write(JsonWriter out, UpdateCatalogItemsRequest value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            PlayFabJson.writeList(out.name("Catalog"), value.Catalog, catalogItemAdapter);
+            out.name("CatalogVersion").value(value.CatalogVersion);
+            PlayFabJson.writeMap(out.name("CustomTags"), value.CustomTags, stringAdapter);
+            out.name("SetAsDefaultCatalog").value(value.SetAsDefaultCatalog);
+            out.endObject();
+        }
+
+        @Override
+        public UpdateCatalogItemsRequest read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            UpdateCatalogItemsRequest value = new UpdateCatalogItemsRequest();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "Catalog": value.Catalog = PlayFabJson.readList(in, catalogItemAdapter); break;
+                        case "CatalogVersion": value.CatalogVersion = PlayFabJson.readString(in); break;
+                        case "CustomTags": value.CustomTags = PlayFabJson.readMap(in, stringAdapter); break;
+                        case "SetAsDefaultCatalog": value.SetAsDefaultCatalog = PlayFabJson.readBoolean(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class UpdateCatalogItemsResultAdapter extends TypeAdapter<UpdateCatalogItemsResult> {
+        private UpdateCatalogItemsResultAdapter(Gson gson) {
+        }
+
+        @Override
+        public void write(JsonWriter out, UpdateCatalogItemsResult value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.endObject();
+        }
+
+        @Override
+        public UpdateCatalogItemsResult read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            UpdateCatalogItemsResult value = new UpdateCatalogItemsResult();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class UpdateCloudScriptRequestAdapter extends TypeAdapter<UpdateCloudScriptRequest> {
+        private final TypeAdapter<String> stringAdapter;
+        private final TypeAdapter<CloudScriptFile> cloudScriptFileAdapter;
+
+        private UpdateCloudScriptRequestAdapter(Gson gson) {
+            stringAdapter = gson.getAdapter(String.class);
+            cloudScriptFileAdapter = gson.getAdapter(CloudScriptFile.class);
+        }
+
+        @Override
+        public void write(JsonWriter out, UpdateCloudScriptRequest value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            PlayFabJson.writeMap(out.name("CustomTags"), value.CustomTags, stringAdapter);
+            out.name("DeveloperPlayFabId").value(value.DeveloperPlayFabId);
+            PlayFabJson.writeList(out.name("Files"), value.Files, cloudScriptFileAdapter);
+            out.name("Publish").value(value.Publish);
+            out.endObject();
+        }
+
+        @Override
+        public UpdateCloudScriptRequest read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            UpdateCloudScriptRequest value = new UpdateCloudScriptRequest();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "CustomTags": value.CustomTags = PlayFabJson.readMap(in, stringAdapter); break;
+                        case "DeveloperPlayFabId": value.DeveloperPlayFabId = PlayFabJson.readString(in); break;
+                        case "Files": value.Files = PlayFabJson.readList(in, cloudScriptFileAdapter); break;
+                        case "Publish": value.Publish = PlayFabJson.readBoolean(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class UpdateCloudScriptResultAdapter extends TypeAdapter<UpdateCloudScriptResult> {
+        private UpdateCloudScriptResultAdapter(Gson gson) {
+        }
+
+        @Override
+        public void write(JsonWriter out, UpdateCloudScriptResult value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.name("Revision").value(value.Revision);
+            out.name("Version").value(value.Version);
+            out.endObject();
+        }
+
+        @Override
+        public UpdateCloudScriptResult read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            UpdateCloudScriptResult value = new UpdateCloudScriptResult();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "Revision": value.Revision = PlayFabJson.readInteger(in); break;
+                        case "Version": value.Version = PlayFabJson.readInteger(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class UpdateOpenIdConnectionRequestAdapter extends TypeAdapter<UpdateOpenIdConnectionRequest> {
+        private final TypeAdapter<OpenIdIssuerInformation> openIdIssuerInformationAdapter;
+
+        private UpdateOpenIdConnectionRequestAdapter(Gson gson) {
+            openIdIssuerInformationAdapter = gson.getAdapter(OpenIdIssuerInformation.class);
+        }
+
+        @Override
+        public void write(JsonWriter out, UpdateOpenIdConnectionRequest value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.name("ClientId").value(value.ClientId);
+            out.name("ClientSecret").value(value.ClientSecret);
+            out.name("ConnectionId").value(value.ConnectionId);
+            out.name("IssuerDiscoveryUrl").value(value.IssuerDiscoveryUrl);
+            openIdIssuerInformationAdapter.write(out.name("IssuerInformation"), value.IssuerInformation);
+            out.endObject();
+        }
+
+        @Override
+        public UpdateOpenIdConnectionRequest read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            UpdateOpenIdConnectionRequest value = new UpdateOpenIdConnectionRequest();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "ClientId": value.ClientId = PlayFabJson.readString(in); break;
+                        case "ClientSecret": value.ClientSecret = PlayFabJson.readString(in); break;
+                        case "ConnectionId": value.ConnectionId = PlayFabJson.readString(in); break;
+                        case "IssuerDiscoveryUrl": value.IssuerDiscoveryUrl = PlayFabJson.readString(in); break;
+                        case "IssuerInformation": value.IssuerInformation = openIdIssuerInformationAdapter.read(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class UpdatePlayerSharedSecretRequestAdapter extends TypeAdapter<UpdatePlayerSharedSecretRequest> {
+        private UpdatePlayerSharedSecretRequestAdapter(Gson gson) {
+        }
+
+        @Override
+        public void write(JsonWriter out, UpdatePlayerSharedSecretRequest value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.name("Disabled").value(value.Disabled);
+            out.name("FriendlyName").value(value.FriendlyName);
+            out.name("SecretKey").value(value.SecretKey);
+            out.endObject();
+        }
+
+        @Override
+        public UpdatePlayerSharedSecretRequest read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            UpdatePlayerSharedSecretRequest value = new UpdatePlayerSharedSecretRequest();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "Disabled": value.Disabled = PlayFabJson.readBoolean(in); break;
+                        case "FriendlyName": value.FriendlyName = PlayFabJson.readString(in); break;
+                        case "SecretKey": value.SecretKey = PlayFabJson.readString(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class UpdatePlayerSharedSecretResultAdapter extends TypeAdapter<UpdatePlayerSharedSecretResult> {
+        private UpdatePlayerSharedSecretResultAdapter(Gson gson) {
+        }
+
+        @Override
+        public void write(JsonWriter out, UpdatePlayerSharedSecretResult value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.endObject();
+        }
+
+        @Override
+        public UpdatePlayerSharedSecretResult read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            UpdatePlayerSharedSecretResult value = new UpdatePlayerSharedSecretResult();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class UpdatePlayerStatisticDefinitionRequestAdapter extends TypeAdapter<UpdatePlayerStatisticDefinitionRequest> {
+        private final TypeAdapter<StatisticAggregationMethod> statisticAggregationMethodAdapter;
+        private final TypeAdapter<StatisticResetIntervalOption> statisticResetIntervalOptionAdapter;
+
+        private UpdatePlayerStatisticDefinitionRequestAdapter(Gson gson) {
+            statisticAggregationMethodAdapter = gson.getAdapter(StatisticAggregationMethod.class);
+            statisticResetIntervalOptionAdapter = gson.getAdapter(StatisticResetIntervalOption.class);
+        }
+
+        @Override
+        public void write(JsonWriter out, UpdatePlayerStatisticDefinitionRequest value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            statisticAggregationMethodAdapter.write(out.name("AggregationMethod"), value.AggregationMethod);
+            out.name("StatisticName").value(value.StatisticName);
+            statisticResetIntervalOptionAdapter.write(out.name("VersionChangeInterval"), value.VersionChangeInterval);
+            out.endObject();
+        }
+
+        @Override
+        public UpdatePlayerStatisticDefinitionRequest read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            UpdatePlayerStatisticDefinitionRequest value = new UpdatePlayerStatisticDefinitionRequest();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "AggregationMethod": value.AggregationMethod = statisticAggregationMethodAdapter.read(in); break;
+                        case "StatisticName": value.StatisticName = PlayFabJson.readString(in); break;
+                        case "VersionChangeInterval": value.VersionChangeInterval = statisticResetIntervalOptionAdapter.read(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class UpdatePlayerStatisticDefinitionResultAdapter extends TypeAdapter<UpdatePlayerStatisticDefinitionResult> {
+        private final TypeAdapter<PlayerStatisticDefinition> playerStatisticDefinitionAdapter;
+
+        private UpdatePlayerStatisticDefinitionResultAdapter(Gson gson) {
+            playerStatisticDefinitionAdapter = gson.getAdapter(PlayerStatisticDefinition.class);
+        }
+
+        @Override
+        public void write(JsonWriter out, UpdatePlayerStatisticDefinitionResult value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            playerStatisticDefinitionAdapter.write(out.name("Statistic"), value.Statistic);
+            out.endObject();
+        }
+
+        @Override
+        public UpdatePlayerStatisticDefinitionResult read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            UpdatePlayerStatisticDefinitionResult value = new UpdatePlayerStatisticDefinitionResult();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "Statistic": value.Statistic = playerStatisticDefinitionAdapter.read(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class UpdatePolicyRequestAdapter extends TypeAdapter<UpdatePolicyRequest> {
+        private final TypeAdapter<PermissionStatement> permissionStatementAdapter;
+
+        private UpdatePolicyRequestAdapter(Gson gson) {
+            permissionStatementAdapter = gson.getAdapter(PermissionStatement.class);
+        }
+
+        @Override
+        public void write(JsonWriter out, UpdatePolicyRequest value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.name("OverwritePolicy").value(value.OverwritePolicy);
+            out.name("PolicyName").value(value.PolicyName);
+            out.name("PolicyVersion").value(value.PolicyVersion);
+            PlayFabJson.writeList(out.name("Statements"), value.Statements, permissionStatementAdapter);
+            out.endObject();
+        }
+
+        @Override
+        public UpdatePolicyRequest read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            UpdatePolicyRequest value = new UpdatePolicyRequest();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "OverwritePolicy": value.OverwritePolicy = PlayFabJson.readBoolean(in); break;
+                        case "PolicyName": value.PolicyName = PlayFabJson.readString(in); break;
+                        case "PolicyVersion": value.PolicyVersion = PlayFabJson.readInteger(in); break;
+                        case "Statements": value.Statements = PlayFabJson.readList(in, permissionStatementAdapter); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class UpdatePolicyResponseAdapter extends TypeAdapter<UpdatePolicyResponse> {
+        private final TypeAdapter<PermissionStatement> permissionStatementAdapter;
+
+        private UpdatePolicyResponseAdapter(Gson gson) {
+            permissionStatementAdapter = gson.getAdapter(PermissionStatement.class);
+        }
+
+        @Override
+        public void write(JsonWriter out, UpdatePolicyResponse value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.name("PolicyName").value(value.PolicyName);
+            PlayFabJson.writeList(out.name("Statements"), value.Statements, permissionStatementAdapter);
+            out.endObject();
+        }
+
+        @Override
+        public UpdatePolicyResponse read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            UpdatePolicyResponse value = new UpdatePolicyResponse();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "PolicyName": value.PolicyName = PlayFabJson.readString(in); break;
+                        case "Statements": value.Statements = PlayFabJson.readList(in, permissionStatementAdapter); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class UpdateRandomResultTablesRequestAdapter extends TypeAdapter<UpdateRandomResultTablesRequest> {
+        private final TypeAdapter<String> stringAdapter;
+        private final TypeAdapter<RandomResultTable> randomResultTableAdapter;
+
+        private UpdateRandomResultTablesRequestAdapter(Gson gson) {
+            stringAdapter = gson.getAdapter(String.class);
+            randomResultTableAdapter = gson.getAdapter(RandomResultTable.class);
+        }
+
+        @Override
+        public void write(JsonWriter out, UpdateRandomResultTablesRequest value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.name("CatalogVersion").value(value.CatalogVersion);
+            PlayFabJson.writeMap(out.name("CustomTags"), value.CustomTags, stringAdapter);
+            PlayFabJson.writeList(out.name("Tables"), value.Tables, randomResultTableAdapter);
+            out.endObject();
+        }
+
+        @Override
+        public UpdateRandomResultTablesRequest read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            UpdateRandomResultTablesRequest value = new UpdateRandomResultTablesRequest();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "CatalogVersion": value.CatalogVersion = PlayFabJson.readString(in); break;
+                        case "CustomTags": value.CustomTags = PlayFabJson.readMap(in, stringAdapter); break;
+                        case "Tables": value.Tables = PlayFabJson.readList(in, randomResultTableAdapter); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class UpdateRandomResultTablesResultAdapter extends TypeAdapter<UpdateRandomResultTablesResult> {
+        private UpdateRandomResultTablesResultAdapter(Gson gson) {
+        }
+
+        @Override
+        public void write(JsonWriter out, UpdateRandomResultTablesResult value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.endObject();
+        }
+
+        @Override
+        public UpdateRandomResultTablesResult read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            UpdateRandomResultTablesResult value = new UpdateRandomResultTablesResult();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class UpdateSegmentRequestAdapter extends TypeAdapter<UpdateSegmentRequest> {
+        private final TypeAdapter<SegmentModel> segmentModelAdapter;
+
+        private UpdateSegmentRequestAdapter(Gson gson) {
+            segmentModelAdapter = gson.getAdapter(SegmentModel.class);
+        }
+
+        @Override
+        public void write(JsonWriter out, UpdateSegmentRequest value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            segmentModelAdapter.write(out.name("SegmentModel"), value.SegmentModel);
+            out.endObject();
+        }
+
+        @Override
+        public UpdateSegmentRequest read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            UpdateSegmentRequest value = new UpdateSegmentRequest();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "SegmentModel": value.SegmentModel = segmentModelAdapter.read(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class UpdateSegmentResponseAdapter extends TypeAdapter<UpdateSegmentResponse> {
+        private UpdateSegmentResponseAdapter(Gson gson) {
+        }
+
+        @Override
+        public void write(JsonWriter out, UpdateSegmentResponse value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.name("ErrorMessage").value(value.ErrorMessage);
+            out.name("SegmentId").value(value.SegmentId);
+            out.endObject();
+        }
+
+        @Override
+        public UpdateSegmentResponse read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            UpdateSegmentResponse value = new UpdateSegmentResponse();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "ErrorMessage": value.ErrorMessage = PlayFabJson.readString(in); break;
+                        case "SegmentId": value.SegmentId = PlayFabJson.readString(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class UpdateStoreItemsRequestAdapter extends TypeAdapter<UpdateStoreItemsRequest> {
+        private final TypeAdapter<String> stringAdapter;
+        private final TypeAdapter<StoreMarketingModel> storeMarketingModelAdapter;
+        private final TypeAdapter<StoreItem> storeItemAdapter;
+
+        private UpdateStoreItemsRequestAdapter(Gson gson) {
+            stringAdapter = gson.getAdapter(String.class);
+            storeMarketingModelAdapter = gson.getAdapter(StoreMarketingModel.class);
+            storeItemAdapter = gson.getAdapter(StoreItem.class);
+        }
+
+        @Override
+        public void write(JsonWriter out, UpdateStoreItemsRequest value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.name("CatalogVersion").value(value.CatalogVersion);
+            PlayFabJson.writeMap(out.name("CustomTags"), value.CustomTags, stringAdapter);
+            storeMarketingModelAdapter.write(out.name("MarketingData"), value.MarketingData);
+            PlayFabJson.writeList(out.name("Store"), value.Store, storeItemAdapter);
+            out.name("StoreId").value(value.StoreId);
+            out.endObject();
+        }
+
+        @Override
+        public UpdateStoreItemsRequest read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            UpdateStoreItemsRequest value = new UpdateStoreItemsRequest();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "CatalogVersion": value.CatalogVersion = PlayFabJson.readString(in); break;
+                        case "CustomTags": value.CustomTags = PlayFabJson.readMap(in, stringAdapter); break;
+                        case "MarketingData": value.MarketingData = storeMarketingModelAdapter.read(in); break;
+                        case "Store": value.Store = PlayFabJson.readList(in, storeItemAdapter); break;
+                        case "StoreId": value.StoreId = PlayFabJson.readString(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class UpdateStoreItemsResultAdapter extends TypeAdapter<UpdateStoreItemsResult> {
+        private UpdateStoreItemsResultAdapter(Gson gson) {
+        }
+
+        @Override
+        public void write(JsonWriter out, UpdateStoreItemsResult value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.endObject();
+        }
+
+        @Override
+        public UpdateStoreItemsResult read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            UpdateStoreItemsResult value = new UpdateStoreItemsResult();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class UpdateTaskRequestAdapter extends TypeAdapter<UpdateTaskRequest> {
+        private final TypeAdapter<String> stringAdapter;
+        private final TypeAdapter<NameIdentifier> nameIdentifierAdapter;
+        private final TypeAdapter<Object> objectAdapter;
+        private final TypeAdapter<ScheduledTaskType> scheduledTaskTypeAdapter;
+
+        private UpdateTaskRequestAdapter(Gson gson) {
+            stringAdapter = gson.getAdapter(String.class);
+            nameIdentifierAdapter = gson.getAdapter(NameIdentifier.class);
+            objectAdapter = gson.getAdapter(Object.class);
+            scheduledTaskTypeAdapter = gson.getAdapter(ScheduledTaskType.class);
+        }
+
+        @Override
+        public void write(JsonWriter out, UpdateTaskRequest value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            PlayFabJson.writeMap(out.name("CustomTags"), value.CustomTags, stringAdapter);
+            out.name("Description").value(value.Description);
+            nameIdentifierAdapter.write(out.name("Identifier"), value.Identifier);
+            out.name("IsActive").value(value.IsActive);
+            out.name("Name").value(value.Name);
+            objectAdapter.write(out.name("Parameter"), value.Parameter);
+            out.name("Schedule").value(value.Schedule);
+            scheduledTaskTypeAdapter.write(out.name("Type"), value.Type);
+            out.endObject();
+        }
+
+        @Override
+        public UpdateTaskRequest read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            UpdateTaskRequest value = new UpdateTaskRequest();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "CustomTags": value.CustomTags = PlayFabJson.readMap(in, stringAdapter); break;
+                        case "Description": value.Description = PlayFabJson.readString(in); break;
+                        case "Identifier": value.Identifier = nameIdentifierAdapter.read(in); break;
+                        case "IsActive": value.IsActive = PlayFabJson.readBoolean(in); break;
+                        case "Name": value.Name = PlayFabJson.readString(in); break;
+                        case "Parameter": value.Parameter = objectAdapter.read(in); break;
+                        case "Schedule": value.Schedule = PlayFabJson.readString(in); break;
+                        case "Type": value.Type = scheduledTaskTypeAdapter.read(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class UpdateUserDataRequestAdapter extends TypeAdapter<UpdateUserDataRequest> {
+        private final TypeAdapter<String> stringAdapter;
+        private final TypeAdapter<UserDataPermission> userDataPermissionAdapter;
+
+        private UpdateUserDataRequestAdapter(Gson gson) {
+            stringAdapter = gson.getAdapter(String.class);
+            userDataPermissionAdapter = gson.getAdapter(UserDataPermission.class);
+        }
+
+        @Override
+        public void write(JsonWriter out, UpdateUserDataRequest value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            PlayFabJson.writeMap(out.name("CustomTags"), value.CustomTags, stringAdapter);
+            PlayFabJson.writeMap(out.name("Data"), value.Data, stringAdapter);
+            PlayFabJson.writeList(out.name("KeysToRemove"), value.KeysToRemove, stringAdapter);
+            userDataPermissionAdapter.write(out.name("Permission"), value.Permission);
+            out.name("PlayFabId").value(value.PlayFabId);
+            out.endObject();
+        }
+
+        @Override
+        public UpdateUserDataRequest read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            UpdateUserDataRequest value = new UpdateUserDataRequest();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "CustomTags": value.CustomTags = PlayFabJson.readMap(in, stringAdapter); break;
+                        case "Data": value.Data = PlayFabJson.readMap(in, stringAdapter); break;
+                        case "KeysToRemove": value.KeysToRemove = PlayFabJson.readList(in, stringAdapter); break;
+                        case "Permission": value.Permission = userDataPermissionAdapter.read(in); break;
+                        case "PlayFabId": value.PlayFabId = PlayFabJson.readString(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class UpdateUserDataResultAdapter extends TypeAdapter<UpdateUserDataResult> {
+        private UpdateUserDataResultAdapter(Gson gson) {
+        }
+
+        @Override
+        public void write(JsonWriter out, UpdateUserDataResult value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.name("DataVersion").value(value.DataVersion);
+            out.endObject();
+        }
+
+        @Override
+        public UpdateUserDataResult read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            UpdateUserDataResult value = new UpdateUserDataResult();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "DataVersion": value.DataVersion = PlayFabJson.readLong(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class UpdateUserInternalDataRequestAdapter extends TypeAdapter<UpdateUserInternalDataRequest> {
+        private final TypeAdapter<String> stringAdapter;
+
+        private UpdateUserInternalDataRequestAdapter(Gson gson) {
+            stringAdapter = gson.getAdapter(String.class);
+        }
+
+        @Override
+        public void write(JsonWriter out, UpdateUserInternalDataRequest value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            PlayFabJson.writeMap(out.name("CustomTags"), value.CustomTags, stringAdapter);
+            PlayFabJson.writeMap(out.name("Data"), value.Data, stringAdapter);
+            PlayFabJson.writeList(out.name("KeysToRemove"), value.KeysToRemove, stringAdapter);
+            out.name("PlayFabId").value(value.PlayFabId);
+            out.endObject();
+        }
+
+        @Override
+        public UpdateUserInternalDataRequest read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            UpdateUserInternalDataRequest value = new UpdateUserInternalDataRequest();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "CustomTags": value.CustomTags = PlayFabJson.readMap(in, stringAdapter); break;
+                        case "Data": value.Data = PlayFabJson.readMap(in, stringAdapter); break;
+                        case "KeysToRemove": value.KeysToRemove = PlayFabJson.readList(in, stringAdapter); break;
+                        case "PlayFabId": value.PlayFabId = PlayFabJson.readString(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class UpdateUserTitleDisplayNameRequestAdapter extends TypeAdapter<UpdateUserTitleDisplayNameRequest> {
+        private final TypeAdapter<String> stringAdapter;
+
+        private UpdateUserTitleDisplayNameRequestAdapter(Gson gson) {
+            stringAdapter = gson.getAdapter(String.class);
+        }
+
+        @Override
+        public void write(JsonWriter out, UpdateUserTitleDisplayNameRequest value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            PlayFabJson.writeMap(out.name("CustomTags"), value.CustomTags, stringAdapter);
+            out.name("DisplayName").value(value.DisplayName);
+            out.name("PlayFabId").value(value.PlayFabId);
+            out.endObject();
+        }
+
+        @Override
+        public UpdateUserTitleDisplayNameRequest read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            UpdateUserTitleDisplayNameRequest value = new UpdateUserTitleDisplayNameRequest();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "CustomTags": value.CustomTags = PlayFabJson.readMap(in, stringAdapter); break;
+                        case "DisplayName": value.DisplayName = PlayFabJson.readString(in); break;
+                        case "PlayFabId": value.PlayFabId = PlayFabJson.readString(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class UpdateUserTitleDisplayNameResultAdapter extends TypeAdapter<UpdateUserTitleDisplayNameResult> {
+        private UpdateUserTitleDisplayNameResultAdapter(Gson gson) {
+        }
+
+        @Override
+        public void write(JsonWriter out, UpdateUserTitleDisplayNameResult value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.name("DisplayName").value(value.DisplayName);
+            out.endObject();
+        }
+
+        @Override
+        public UpdateUserTitleDisplayNameResult read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            UpdateUserTitleDisplayNameResult value = new UpdateUserTitleDisplayNameResult();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "DisplayName": value.DisplayName = PlayFabJson.readString(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class UserAccountInfoAdapter extends TypeAdapter<UserAccountInfo> {
+        private final TypeAdapter<UserAndroidDeviceInfo> userAndroidDeviceInfoAdapter;
+        private final TypeAdapter<UserAppleIdInfo> userAppleIdInfoAdapter;
+        private final TypeAdapter<Date> dateAdapter;
+        private final TypeAdapter<UserCustomIdInfo> userCustomIdInfoAdapter;
+        private final TypeAdapter<UserFacebookInfo> userFacebookInfoAdapter;
+        private final TypeAdapter<UserFacebookInstantGamesIdInfo> userFacebookInstantGamesIdInfoAdapter;
+        private final TypeAdapter<UserGameCenterInfo> userGameCenterInfoAdapter;
+        private final TypeAdapter<UserGoogleInfo> userGoogleInfoAdapter;
+        private final TypeAdapter<UserIosDeviceInfo> userIosDeviceInfoAdapter;
+        private final TypeAdapter<UserKongregateInfo> userKongregateInfoAdapter;
+        private final TypeAdapter<UserNintendoSwitchAccountIdInfo> userNintendoSwitchAccountIdInfoAdapter;
+        private final TypeAdapter<UserNintendoSwitchDeviceIdInfo> userNintendoSwitchDeviceIdInfoAdapter;
+        private final TypeAdapter<UserOpenIdInfo> userOpenIdInfoAdapter;
+        private final TypeAdapter<UserPrivateAccountInfo> userPrivateAccountInfoAdapter;
+        private final TypeAdapter<UserPsnInfo> userPsnInfoAdapter;
+        private final TypeAdapter<UserSteamInfo> userSteamInfoAdapter;
+        private final TypeAdapter<UserTitleInfo> userTitleInfoAdapter;
+        private final TypeAdapter<UserTwitchInfo> userTwitchInfoAdapter;
+        private final TypeAdapter<UserXboxInfo> userXboxInfoAdapter;
+
+        private UserAccountInfoAdapter(Gson gson) {
+            userAndroidDeviceInfoAdapter = gson.getAdapter(UserAndroidDeviceInfo.class);
+            userAppleIdInfoAdapter = gson.getAdapter(UserAppleIdInfo.class);
+            dateAdapter = gson.getAdapter(Date.class);
+            userCustomIdInfoAdapter = gson.getAdapter(UserCustomIdInfo.class);
+            userFacebookInfoAdapter = gson.getAdapter(UserFacebookInfo.class);
+            userFacebookInstantGamesIdInfoAdapter = gson.getAdapter(UserFacebookInstantGamesIdInfo.class);
+            userGameCenterInfoAdapter = gson.getAdapter(UserGameCenterInfo.class);
+            userGoogleInfoAdapter = gson.getAdapter(UserGoogleInfo.class);
+            userIosDeviceInfoAdapter = gson.getAdapter(UserIosDeviceInfo.class);
+            userKongregateInfoAdapter = gson.getAdapter(UserKongregateInfo.class);
+            userNintendoSwitchAccountIdInfoAdapter = gson.getAdapter(UserNintendoSwitchAccountIdInfo.class);
+            userNintendoSwitchDeviceIdInfoAdapter = gson.getAdapter(UserNintendoSwitchDeviceIdInfo.class);
+            userOpenIdInfoAdapter = gson.getAdapter(UserOpenIdInfo.class);
+            userPrivateAccountInfoAdapter = gson.getAdapter(UserPrivateAccountInfo.class);
+            userPsnInfoAdapter = gson.getAdapter(UserPsnInfo.class);
+            userSteamInfoAdapter = gson.getAdapter(UserSteamInfo.class);
+            userTitleInfoAdapter = gson.getAdapter(UserTitleInfo.class);
+            userTwitchInfoAdapter = gson.getAdapter(UserTwitchInfo.class);
+            userXboxInfoAdapter = gson.getAdapter(UserXboxInfo.class);
+        }
+
+        @Override
+        public void write(JsonWriter out, UserAccountInfo value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            userAndroidDeviceInfoAdapter.write(out.name("AndroidDeviceInfo"), value.AndroidDeviceInfo);
+            userAppleIdInfoAdapter.write(out.name("AppleAccountInfo"), value.AppleAccountInfo);
+            dateAdapter.write(out.name("Created"), value.Created);
+            userCustomIdInfoAdapter.write(out.name("CustomIdInfo"), value.CustomIdInfo);
+            userFacebookInfoAdapter.write(out.name("FacebookInfo"), value.FacebookInfo);
+            userFacebookInstantGamesIdInfoAdapter.write(out.name("FacebookInstantGamesIdInfo"), value.FacebookInstantGamesIdInfo);
+            userGameCenterInfoAdapter.write(out.name("GameCenterInfo"), value.GameCenterInfo);
+            userGoogleInfoAdapter.write(out.name("GoogleInfo"), value.GoogleInfo);
+            userIosDeviceInfoAdapter.write(out.name("IosDeviceInfo"), value.IosDeviceInfo);
+            userKongregateInfoAdapter.write(out.name("KongregateInfo"), value.KongregateInfo);
+            userNintendoSwitchAccountIdInfoAdapter.write(out.name("NintendoSwitchAccountInfo"), value.NintendoSwitchAccountInfo);
+            userNintendoSwitchDeviceIdInfoAdapter.write(out.name("NintendoSwitchDeviceIdInfo"), value.NintendoSwitchDeviceIdInfo);
+            PlayFabJson.writeList(out.name("OpenIdInfo"), value.OpenIdInfo, userOpenIdInfoAdapter);
+            out.name("PlayFabId").value(value.PlayFabId);
+            userPrivateAccountInfoAdapter.write(out.name("PrivateInfo"), value.PrivateInfo);
+            userPsnInfoAdapter.write(out.name("PsnInfo"), value.PsnInfo);
+            userSteamInfoAdapter.write(out.name("SteamInfo"), value.SteamInfo);
+            userTitleInfoAdapter.write(out.name("TitleInfo"), value.TitleInfo);
+            userTwitchInfoAdapter.write(out.name("TwitchInfo"), value.TwitchInfo);
+            out.name("Username").value(value.Username);
+            userXboxInfoAdapter.write(out.name("XboxInfo"), value.XboxInfo);
+            out.endObject();
+        }
+
+        @Override
+        public UserAccountInfo read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            UserAccountInfo value = new UserAccountInfo();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "AndroidDeviceInfo": value.AndroidDeviceInfo = userAndroidDeviceInfoAdapter.read(in); break;
+                        case "AppleAccountInfo": value.AppleAccountInfo = userAppleIdInfoAdapter.read(in); break;
+                        case "Created": value.Created = dateAdapter.read(in); break;
+                        case "CustomIdInfo": value.CustomIdInfo = userCustomIdInfoAdapter.read(in); break;
+                        case "FacebookInfo": value.FacebookInfo = userFacebookInfoAdapter.read(in); break;
+                        case "FacebookInstantGamesIdInfo": value.FacebookInstantGamesIdInfo = userFacebookInstantGamesIdInfoAdapter.read(in); break;
+                        case "GameCenterInfo": value.GameCenterInfo = userGameCenterInfoAdapter.read(in); break;
+                        case "GoogleInfo": value.GoogleInfo = userGoogleInfoAdapter.read(in); break;
+                        case "IosDeviceInfo": value.IosDeviceInfo = userIosDeviceInfoAdapter.read(in); break;
+                        case "KongregateInfo": value.KongregateInfo = userKongregateInfoAdapter.read(in); break;
+                        case "NintendoSwitchAccountInfo": value.NintendoSwitchAccountInfo = userNintendoSwitchAccountIdInfoAdapter.read(in); break;
+                        case "NintendoSwitchDeviceIdInfo": value.NintendoSwitchDeviceIdInfo = userNintendoSwitchDeviceIdInfoAdapter.read(in); break;
+                        case "OpenIdInfo": value.OpenIdInfo = PlayFabJson.readList(in, userOpenIdInfoAdapter); break;
+                        case "PlayFabId": value.PlayFabId = PlayFabJson.readString(in); break;
+                        case "PrivateInfo": value.PrivateInfo = userPrivateAccountInfoAdapter.read(in); break;
+                        case "PsnInfo": value.PsnInfo = userPsnInfoAdapter.read(in); break;
+                        case "SteamInfo": value.SteamInfo = userSteamInfoAdapter.read(in); break;
+                        case "TitleInfo": value.TitleInfo = userTitleInfoAdapter.read(in); break;
+                        case "TwitchInfo": value.TwitchInfo = userTwitchInfoAdapter.read(in); break;
+                        case "Username": value.Username = PlayFabJson.readString(in); break;
+                        case "XboxInfo": value.XboxInfo = userXboxInfoAdapter.read(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class UserAndroidDeviceInfoAdapter extends TypeAdapter<UserAndroidDeviceInfo> {
+        private UserAndroidDeviceInfoAdapter(Gson gson) {
+        }
+
+        @Override
+        public void write(JsonWriter out, UserAndroidDeviceInfo value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.name("AndroidDeviceId").value(value.AndroidDeviceId);
+            out.endObject();
+        }
+
+        @Override
+        public UserAndroidDeviceInfo read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            UserAndroidDeviceInfo value = new UserAndroidDeviceInfo();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "AndroidDeviceId": value.AndroidDeviceId = PlayFabJson.readString(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class UserAppleIdInfoAdapter extends TypeAdapter<UserAppleIdInfo> {
+        private UserAppleIdInfoAdapter(Gson gson) {
+        }
+
+        @Override
+        public void write(JsonWriter out, UserAppleIdInfo value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.name("AppleSubjectId").value(value.AppleSubjectId);
+            out.endObject();
+        }
+
+        @Override
+        public UserAppleIdInfo read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            UserAppleIdInfo value = new UserAppleIdInfo();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "AppleSubjectId": value.AppleSubjectId = PlayFabJson.readString(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class UserCustomIdInfoAdapter extends TypeAdapter<UserCustomIdInfo> {
+        private UserCustomIdInfoAdapter(Gson gson) {
+        }
+
+        @Override
+        public void write(JsonWriter out, UserCustomIdInfo value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.name("CustomId").value(value.CustomId);
+            out.endObject();
+        }
+
+        @Override
+        public UserCustomIdInfo read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            UserCustomIdInfo value = new UserCustomIdInfo();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "CustomId": value.CustomId = PlayFabJson.readString(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class UserDataRecordAdapter extends TypeAdapter<UserDataRecord> {
+        private final TypeAdapter<Date> dateAdapter;
+        private final TypeAdapter<UserDataPermission> userDataPermissionAdapter;
+
+        private UserDataRecordAdapter(Gson gson) {
+            dateAdapter = gson.getAdapter(Date.class);
+            userDataPermissionAdapter = gson.getAdapter(UserDataPermission.class);
+        }
+
+        @Override
+        public void write(JsonWriter out, UserDataRecord value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            dateAdapter.write(out.name("LastUpdated"), value.LastUpdated);
+            userDataPermissionAdapter.write(out.name("Permission"), value.Permission);
+            out.name("Value").value(value.Value);
+            out.endObject();
+        }
+
+        @Override
+        public UserDataRecord read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            UserDataRecord value = new UserDataRecord();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "LastUpdated": value.LastUpdated = dateAdapter.read(in); break;
+                        case "Permission": value.Permission = userDataPermissionAdapter.read(in); break;
+                        case "Value": value.Value = PlayFabJson.readString(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class UserFacebookInfoAdapter extends TypeAdapter<UserFacebookInfo> {
+        private UserFacebookInfoAdapter(Gson gson) {
+        }
+
+        @Override
+        public void write(JsonWriter out, UserFacebookInfo value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.name("FacebookId").value(value.FacebookId);
+            out.name("FullName").value(value.FullName);
+            out.endObject();
+        }
+
+        @Override
+        public UserFacebookInfo read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            UserFacebookInfo value = new UserFacebookInfo();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "FacebookId": value.FacebookId = PlayFabJson.readString(in); break;
+                        case "FullName": value.FullName = PlayFabJson.readString(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class UserFacebookInstantGamesIdInfoAdapter extends TypeAdapter<UserFacebookInstantGamesIdInfo> {
+        private UserFacebookInstantGamesIdInfoAdapter(Gson gson) {
+        }
+
+        @Override
+        public void write(JsonWriter out, UserFacebookInstantGamesIdInfo value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.name("FacebookInstantGamesId").value(value.FacebookInstantGamesId);
+            out.endObject();
+        }
+
+        @Override
+        public UserFacebookInstantGamesIdInfo read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            UserFacebookInstantGamesIdInfo value = new UserFacebookInstantGamesIdInfo();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "FacebookInstantGamesId": value.FacebookInstantGamesId = PlayFabJson.readString(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class UserGameCenterInfoAdapter extends TypeAdapter<UserGameCenterInfo> {
+        private UserGameCenterInfoAdapter(Gson gson) {
+        }
+
+        @Override
+        public void write(JsonWriter out, UserGameCenterInfo value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.name("GameCenterId").value(value.GameCenterId);
+            out.endObject();
+        }
+
+        @Override
+        public UserGameCenterInfo read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            UserGameCenterInfo value = new UserGameCenterInfo();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "GameCenterId": value.GameCenterId = PlayFabJson.readString(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class UserGoogleInfoAdapter extends TypeAdapter<UserGoogleInfo> {
+        private UserGoogleInfoAdapter(Gson gson) {
+        }
+
+        @Override
+        public void write(JsonWriter out, UserGoogleInfo value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.name("GoogleEmail").value(value.GoogleEmail);
+            out.name("GoogleGender").value(value.GoogleGender);
+            out.name("GoogleId").value(value.GoogleId);
+            out.name("GoogleLocale").value(value.GoogleLocale);
+            out.name("GoogleName").value(value.GoogleName);
+            out.endObject();
+        }
+
+        @Override
+        public UserGoogleInfo read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            UserGoogleInfo value = new UserGoogleInfo();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "GoogleEmail": value.GoogleEmail = PlayFabJson.readString(in); break;
+                        case "GoogleGender": value.GoogleGender = PlayFabJson.readString(in); break;
+                        case "GoogleId": value.GoogleId = PlayFabJson.readString(in); break;
+                        case "GoogleLocale": value.GoogleLocale = PlayFabJson.readString(in); break;
+                        case "GoogleName": value.GoogleName = PlayFabJson.readString(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class UserIosDeviceInfoAdapter extends TypeAdapter<UserIosDeviceInfo> {
+        private UserIosDeviceInfoAdapter(Gson gson) {
+        }
+
+        @Override
+        public void write(JsonWriter out, UserIosDeviceInfo value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.name("IosDeviceId").value(value.IosDeviceId);
+            out.endObject();
+        }
+
+        @Override
+        public UserIosDeviceInfo read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            UserIosDeviceInfo value = new UserIosDeviceInfo();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "IosDeviceId": value.IosDeviceId = PlayFabJson.readString(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class UserKongregateInfoAdapter extends TypeAdapter<UserKongregateInfo> {
+        private UserKongregateInfoAdapter(Gson gson) {
+        }
+
+        @Override
+        public void write(JsonWriter out, UserKongregateInfo value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.name("KongregateId").value(value.KongregateId);
+            out.name("KongregateName").value(value.KongregateName);
+            out.endObject();
+        }
+
+        @Override
+        public UserKongregateInfo read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            UserKongregateInfo value = new UserKongregateInfo();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "KongregateId": value.KongregateId = PlayFabJson.readString(in); break;
+                        case "KongregateName": value.KongregateName = PlayFabJson.readString(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class UserNintendoSwitchAccountIdInfoAdapter extends TypeAdapter<UserNintendoSwitchAccountIdInfo> {
+        private UserNintendoSwitchAccountIdInfoAdapter(Gson gson) {
+        }
+
+        @Override
+        public void write(JsonWriter out, UserNintendoSwitchAccountIdInfo value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.name("NintendoSwitchAccountSubjectId").value(value.NintendoSwitchAccountSubjectId);
+            out.endObject();
+        }
+
+        @Override
+        public UserNintendoSwitchAccountIdInfo read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            UserNintendoSwitchAccountIdInfo value = new UserNintendoSwitchAccountIdInfo();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "NintendoSwitchAccountSubjectId": value.NintendoSwitchAccountSubjectId = PlayFabJson.readString(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class UserNintendoSwitchDeviceIdInfoAdapter extends TypeAdapter<UserNintendoSwitchDeviceIdInfo> {
+        private UserNintendoSwitchDeviceIdInfoAdapter(Gson gson) {
+        }
+
+        @Override
+        public void write(JsonWriter out, UserNintendoSwitchDeviceIdInfo value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.name("NintendoSwitchDeviceId").value(value.NintendoSwitchDeviceId);
+            out.endObject();
+        }
+
+        @Override
+        public UserNintendoSwitchDeviceIdInfo read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            UserNintendoSwitchDeviceIdInfo value = new UserNintendoSwitchDeviceIdInfo();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "NintendoSwitchDeviceId": value.NintendoSwitchDeviceId = PlayFabJson.readString(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class UserOpenIdInfoAdapter extends TypeAdapter<UserOpenIdInfo> {
+        private UserOpenIdInfoAdapter(Gson gson) {
+        }
+
+        @Override
+        public void write(JsonWriter out, UserOpenIdInfo value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.name("ConnectionId").value(value.ConnectionId);
+            out.name("Issuer").value(value.Issuer);
+            out.name("Subject").value(value.Subject);
+            out.endObject();
+        }
+
+        @Override
+        public UserOpenIdInfo read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            UserOpenIdInfo value = new UserOpenIdInfo();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "ConnectionId": value.ConnectionId = PlayFabJson.readString(in); break;
+                        case "Issuer": value.Issuer = PlayFabJson.readString(in); break;
+                        case "Subject": value.Subject = PlayFabJson.readString(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class UserOriginationSegmentFilterAdapter extends TypeAdapter<UserOriginationSegmentFilter> {
+        private final TypeAdapter<SegmentLoginIdentityProvider> segmentLoginIdentityProviderAdapter;
+
+        private UserOriginationSegmentFilterAdapter(Gson gson) {
+            segmentLoginIdentityProviderAdapter = gson.getAdapter(SegmentLoginIdentityProvider.class);
+        }
+
+        @Override
+        public void write(JsonWriter out, UserOriginationSegmentFilter value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            segmentLoginIdentityProviderAdapter.write(out.name("LoginProvider"), value.LoginProvider);
+            out.endObject();
+        }
+
+        @Override
+        public UserOriginationSegmentFilter read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            UserOriginationSegmentFilter value = new UserOriginationSegmentFilter();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "LoginProvider": value.LoginProvider = segmentLoginIdentityProviderAdapter.read(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class UserPrivateAccountInfoAdapter extends TypeAdapter<UserPrivateAccountInfo> {
+        private UserPrivateAccountInfoAdapter(Gson gson) {
+        }
+
+        @Override
+        public void write(JsonWriter out, UserPrivateAccountInfo value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.name("Email").value(value.Email);
+            out.endObject();
+        }
+
+        @Override
+        public UserPrivateAccountInfo read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            UserPrivateAccountInfo value = new UserPrivateAccountInfo();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "Email": value.Email = PlayFabJson.readString(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class UserPsnInfoAdapter extends TypeAdapter<UserPsnInfo> {
+        private UserPsnInfoAdapter(Gson gson) {
+        }
+
+        @Override
+        public void write(JsonWriter out, UserPsnInfo value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.name("PsnAccountId").value(value.PsnAccountId);
+            out.name("PsnOnlineId").value(value.PsnOnlineId);
+            out.endObject();
+        }
+
+        @Override
+        public UserPsnInfo read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            UserPsnInfo value = new UserPsnInfo();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "PsnAccountId": value.PsnAccountId = PlayFabJson.readString(in); break;
+                        case "PsnOnlineId": value.PsnOnlineId = PlayFabJson.readString(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class UserSteamInfoAdapter extends TypeAdapter<UserSteamInfo> {
+        private final TypeAdapter<TitleActivationStatus> titleActivationStatusAdapter;
+        private final TypeAdapter<Currency> currencyAdapter;
+
+        private UserSteamInfoAdapter(Gson gson) {
+            titleActivationStatusAdapter = gson.getAdapter(TitleActivationStatus.class);
+            currencyAdapter = gson.getAdapter(Currency.class);
+        }
+
+        @Override
+        public void write(JsonWriter out, UserSteamInfo value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            titleActivationStatusAdapter.write(out.name("SteamActivationStatus"), value.SteamActivationStatus);
+            out.name("SteamCountry").value(value.SteamCountry);
+            currencyAdapter.write(out.name("SteamCurrency"), value.SteamCurrency);
+            out.name("SteamId").value(value.SteamId);
+            out.name("SteamName").value(value.SteamName);
+            out.endObject();
+        }
+
+        @Override
+        public UserSteamInfo read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            UserSteamInfo value = new UserSteamInfo();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "SteamActivationStatus": value.SteamActivationStatus = titleActivationStatusAdapter.read(in); break;
+                        case "SteamCountry": value.SteamCountry = PlayFabJson.readString(in); break;
+                        case "SteamCurrency": value.SteamCurrency = currencyAdapter.read(in); break;
+                        case "SteamId": value.SteamId = PlayFabJson.readString(in); break;
+                        case "SteamName": value.SteamName = PlayFabJson.readString(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class UserTitleInfoAdapter extends TypeAdapter<UserTitleInfo> {
+        private final TypeAdapter<Date> dateAdapter;
+        private final TypeAdapter<UserOrigination> userOriginationAdapter;
+        private final TypeAdapter<EntityKey> entityKeyAdapter;
+
+        private UserTitleInfoAdapter(Gson gson) {
+            dateAdapter = gson.getAdapter(Date.class);
+            userOriginationAdapter = gson.getAdapter(UserOrigination.class);
+            entityKeyAdapter = gson.getAdapter(EntityKey.class);
+        }
+
+        @Override
+        public void write(JsonWriter out, UserTitleInfo value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.name("AvatarUrl").value(value.AvatarUrl);
+            dateAdapter.write(out.name("Created"), value.Created);
+            out.name("DisplayName").value(value.DisplayName);
+            dateAdapter.write(out.name("FirstLogin"), value.FirstLogin);
+            out.name("isBanned").value(value.isBanned);
+            dateAdapter.write(out.name("LastLogin"), value.LastLogin);
+            userOriginationAdapter.write(out.name("Origination"), value.Origination);
+            entityKeyAdapter.write(out.name("TitlePlayerAccount"), value.TitlePlayerAccount);
+            out.endObject();
+        }
+
+        @Override
+        public UserTitleInfo read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            UserTitleInfo value = new UserTitleInfo();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "AvatarUrl": value.AvatarUrl = PlayFabJson.readString(in); break;
+                        case "Created": value.Created = dateAdapter.read(in); break;
+                        case "DisplayName": value.DisplayName = PlayFabJson.readString(in); break;
+                        case "FirstLogin": value.FirstLogin = dateAdapter.read(in); break;
+                        case "isBanned": value.isBanned = PlayFabJson.readBoolean(in); break;
+                        case "LastLogin": value.LastLogin = dateAdapter.read(in); break;
+                        case "Origination": value.Origination = userOriginationAdapter.read(in); break;
+                        case "TitlePlayerAccount": value.TitlePlayerAccount = entityKeyAdapter.read(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class UserTwitchInfoAdapter extends TypeAdapter<UserTwitchInfo> {
+        private UserTwitchInfoAdapter(Gson gson) {
+        }
+
+        @Override
+        public void write(JsonWriter out, UserTwitchInfo value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.name("TwitchId").value(value.TwitchId);
+            out.name("TwitchUserName").value(value.TwitchUserName);
+            out.endObject();
+        }
+
+        @Override
+        public UserTwitchInfo read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            UserTwitchInfo value = new UserTwitchInfo();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "TwitchId": value.TwitchId = PlayFabJson.readString(in); break;
+                        case "TwitchUserName": value.TwitchUserName = PlayFabJson.readString(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class UserXboxInfoAdapter extends TypeAdapter<UserXboxInfo> {
+        private UserXboxInfoAdapter(Gson gson) {
+        }
+
+        @Override
+        public void write(JsonWriter out, UserXboxInfo value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.name("XboxUserId").value(value.XboxUserId);
+            out.endObject();
+        }
+
+        @Override
+        public UserXboxInfo read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            UserXboxInfo value = new UserXboxInfo();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "XboxUserId": value.XboxUserId = PlayFabJson.readString(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class ValueToDateModelAdapter extends TypeAdapter<ValueToDateModel> {
+        private ValueToDateModelAdapter(Gson gson) {
+        }
+
+        @Override
+        public void write(JsonWriter out, ValueToDateModel value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.name("Currency").value(value.Currency);
+            out.name("TotalValue").value(value.TotalValue);
+            out.name("TotalValueAsDecimal").value(value.TotalValueAsDecimal);
+            out.endObject();
+        }
+
+        @Override
+        public ValueToDateModel read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            ValueToDateModel value = new ValueToDateModel();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "Currency": value.Currency = PlayFabJson.readString(in); break;
+                        case "TotalValue": value.TotalValue = PlayFabJson.readLong(in); break;
+                        case "TotalValueAsDecimal": value.TotalValueAsDecimal = PlayFabJson.readString(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class ValueToDateSegmentFilterAdapter extends TypeAdapter<ValueToDateSegmentFilter> {
+        private final TypeAdapter<SegmentFilterComparison> segmentFilterComparisonAdapter;
+        private final TypeAdapter<SegmentCurrency> segmentCurrencyAdapter;
+
+        private ValueToDateSegmentFilterAdapter(Gson gson) {
+            segmentFilterComparisonAdapter = gson.getAdapter(SegmentFilterComparison.class);
+            segmentCurrencyAdapter = gson.getAdapter(SegmentCurrency.class);
+        }
+
+        @Override
+        public void write(JsonWriter out, ValueToDateSegmentFilter value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.name("Amount").value(value.Amount);
+            segmentFilterComparisonAdapter.write(out.name("Comparison"), value.Comparison);
+            segmentCurrencyAdapter.write(out.name("Currency"), value.Currency);
+            out.endObject();
+        }
+
+        @Override
+        public ValueToDateSegmentFilter read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            ValueToDateSegmentFilter value = new ValueToDateSegmentFilter();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "Amount": value.Amount = PlayFabJson.readString(in); break;
+                        case "Comparison": value.Comparison = segmentFilterComparisonAdapter.read(in); break;
+                        case "Currency": value.Currency = segmentCurrencyAdapter.read(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class VirtualCurrencyBalanceSegmentFilterAdapter extends TypeAdapter<VirtualCurrencyBalanceSegmentFilter> {
+        private final TypeAdapter<SegmentFilterComparison> segmentFilterComparisonAdapter;
+
+        private VirtualCurrencyBalanceSegmentFilterAdapter(Gson gson) {
+            segmentFilterComparisonAdapter = gson.getAdapter(SegmentFilterComparison.class);
+        }
+
+        @Override
+        public void write(JsonWriter out, VirtualCurrencyBalanceSegmentFilter value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.name("Amount").value(value.Amount);
+            segmentFilterComparisonAdapter.write(out.name("Comparison"), value.Comparison);
+            out.name("CurrencyCode").value(value.CurrencyCode);
+            out.endObject();
+        }
+
+        @Override
+        public VirtualCurrencyBalanceSegmentFilter read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            VirtualCurrencyBalanceSegmentFilter value = new VirtualCurrencyBalanceSegmentFilter();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "Amount": value.Amount = PlayFabJson.readInteger(in); break;
+                        case "Comparison": value.Comparison = segmentFilterComparisonAdapter.read(in); break;
+                        case "CurrencyCode": value.CurrencyCode = PlayFabJson.readString(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class VirtualCurrencyDataAdapter extends TypeAdapter<VirtualCurrencyData> {
+        private VirtualCurrencyDataAdapter(Gson gson) {
+        }
+
+        @Override
+        public void write(JsonWriter out, VirtualCurrencyData value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.name("CurrencyCode").value(value.CurrencyCode);
+            out.name("DisplayName").value(value.DisplayName);
+            out.name("InitialDeposit").value(value.InitialDeposit);
+            out.name("RechargeMax").value(value.RechargeMax);
+            out.name("RechargeRate").value(value.RechargeRate);
+            out.endObject();
+        }
+
+        @Override
+        public VirtualCurrencyData read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            VirtualCurrencyData value = new VirtualCurrencyData();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "CurrencyCode": value.CurrencyCode = PlayFabJson.readString(in); break;
+                        case "DisplayName": value.DisplayName = PlayFabJson.readString(in); break;
+                        case "InitialDeposit": value.InitialDeposit = PlayFabJson.readInteger(in); break;
+                        case "RechargeMax": value.RechargeMax = PlayFabJson.readInteger(in); break;
+                        case "RechargeRate": value.RechargeRate = PlayFabJson.readInteger(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class VirtualCurrencyRechargeTimeAdapter extends TypeAdapter<VirtualCurrencyRechargeTime> {
+        private final TypeAdapter<Date> dateAdapter;
+
+        private VirtualCurrencyRechargeTimeAdapter(Gson gson) {
+            dateAdapter = gson.getAdapter(Date.class);
+        }
+
+        @Override
+        public void write(JsonWriter out, VirtualCurrencyRechargeTime value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.name("RechargeMax").value(value.RechargeMax);
+            dateAdapter.write(out.name("RechargeTime"), value.RechargeTime);
+            out.name("SecondsToRecharge").value(value.SecondsToRecharge);
+            out.endObject();
+        }
+
+        @Override
+        public VirtualCurrencyRechargeTime read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            VirtualCurrencyRechargeTime value = new VirtualCurrencyRechargeTime();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "RechargeMax": value.RechargeMax = PlayFabJson.readInteger(in); break;
+                        case "RechargeTime": value.RechargeTime = dateAdapter.read(in); break;
+                        case "SecondsToRecharge": value.SecondsToRecharge = PlayFabJson.readInteger(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+}
@@ -0,0 +1,168 @@
+package com.playfab;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * The title, credentials and session that API calls are made with, as one immutable value. Any number of threads can
+ * share a context without locking; the with methods return a changed copy. Pass one to an instance API, such as
+ * new PlayFabClientInstanceAPI(context), to act for many players or titles at once in one JVM.
+ *
+ * The static API classes keep reading PlayFabSettings, through one shared context that reads its fields as each call
+ * needs them rather than a copy per call. fromSettings() takes a copy of them instead. Process-wide behaviour, such as
+ * GlobalErrorHandler, retries, rate limits and the transport, stays in PlayFabSettings and applies to every context.
+ */
+public final class PlayFabApiContext {
+    private final String titleId;
+    private final String developerSecretKey;
+    private final String clientSessionTicket;
+    private final String entityToken;
+    private final String productionEnvironmentUrl;
+    private final String verticalName;
+    private final Map<String, String> requestGetParams;
+    // Whether this is SETTINGS, which reads PlayFabSettings on every get instead of the fields above
+    private final boolean live;
+
+    // The url of a call is urlPrefix + api path + urlSuffix, both worked out once per context
+    private final String urlPrefix;
+    private final String urlSuffix;
+
+    /**
+     * The context of the static API classes. Its getters read PlayFabSettings as they are called, so a call costs no copy
+     * of the settings, and PlayFabSettings.EntityTokenManager is only asked when an entity endpoint reads the token
+     */
+    static final PlayFabApiContext SETTINGS = new PlayFabApiContext();
+
+    private PlayFabApiContext() {
+        titleId = developerSecretKey = clientSessionTicket = entityToken = productionEnvironmentUrl = verticalName = null;
+        requestGetParams = null;
+        urlPrefix = urlSuffix = null;
+        live = true;
+    }
+
+    /**
+     * A context for a title, with no credentials yet, calling the public PlayFab service
+     */
+    public PlayFabApiContext(String titleId) {
+        this(titleId, null, null, null, ".playfabapi.com", null, PlayFabSettings.RequestGetParams);
+    }
+
+    private PlayFabApiContext(String titleId, String developerSecretKey, String clientSessionTicket, String entityToken,
+        String productionEnvironmentUrl, String verticalName, Map<String, String> requestGetParams) {
+        this.titleId = titleId;
+        this.developerSecretKey = developerSecretKey;
+        this.clientSessionTicket = clientSessionTicket;
+        this.entityToken = entityToken;
+        this.productionEnvironmentUrl = productionEnvironmentUrl;
+        this.verticalName = verticalName;
+        this.live = false;
+        this.requestGetParams = requestGetParams != null
+            ? Collections.unmodifiableMap(new LinkedHashMap<String, String>(requestGetParams))
+            : Collections.<String, String>emptyMap();
+
+        StringBuilder prefix = new StringBuilder();
+        if (!productionEnvironmentUrl.startsWith("http"))
+            prefix.append("https://").append(verticalName != null ? verticalName : titleId);
+        urlPrefix = prefix.append(productionEnvironmentUrl).toString();
+
+        StringBuilder suffix = new StringBuilder();
+        for (Map.Entry<String, String> paramPair : this.requestGetParams.entrySet())
+            suffix.append(suffix.length() == 0 ? "?" : "&").append(paramPair.getKey()).append("=").append(paramPair.getValue());
+        urlSuffix = suffix.toString();
+    }
+
+    /**
+     * @return a context holding the current values of PlayFabSettings, with the entity token of
+     * PlayFabSettings.EntityTokenManager when it has one
+     */
+    public static PlayFabApiContext fromSettings() {
+        return fromSettings(settingsEntityToken());
+    }
+
+    static PlayFabApiContext fromSettings(String entityToken) {
+        return new PlayFabApiContext(PlayFabSettings.TitleId, PlayFabSettings.DeveloperSecretKey, PlayFabSettings.ClientSessionTicket,
+            entityToken, PlayFabSettings.ProductionEnvironmentUrl, PlayFabSettings.VerticalName, PlayFabSettings.RequestGetParams);
+    }
+
+    private static String settingsEntityToken() {
+        PlayFabEntityTokenManager manager = PlayFabSettings.EntityTokenManager;
+        String entityToken = manager != null ? manager.getEntityToken() : null;
+        return entityToken != null ? entityToken : PlayFabSettings.EntityToken;
+    }
+
+    public String getTitleId() {
+        return live ? PlayFabSettings.TitleId : titleId;
+    }
+
+    public String getDeveloperSecretKey() {
+        return live ? PlayFabSettings.DeveloperSecretKey : developerSecretKey;
+    }
+
+    public String getClientSessionTicket() {
+        return live ? PlayFabSettings.ClientSessionTicket : clientSessionTicket;
+    }
+
+    public String getEntityToken() {
+        return live ? settingsEntityToken() : entityToken;
+    }
+
+    public String getProductionEnvironmentUrl() {
+        return live ? PlayFabSettings.ProductionEnvironmentUrl : productionEnvironmentUrl;
+    }
+
+    public String getVerticalName() {
+        return live ? PlayFabSettings.VerticalName : verticalName;
+    }
+
+    public Map<String, String> getRequestGetParams() {
+        if (!live)
+            return requestGetParams;
+        return PlayFabSettings.RequestGetParams != null
+            ? Collections.unmodifiableMap(PlayFabSettings.RequestGetParams)
+            : Collections.<String, String>emptyMap();
+    }
+
+    /**
+     * @return the full url of an api call made with this context, as PlayFabSettings.GetURL builds it
+     */
+    public String getURL(String apiCall) {
+        return live ? PlayFabSettings.GetURL(apiCall) : urlPrefix + apiCall + urlSuffix;
+    }
+
+    // The with methods go through the getters, so a copy of SETTINGS holds the values of PlayFabSettings at the time
+
+    public PlayFabApiContext withTitleId(String titleId) {
+        return new PlayFabApiContext(titleId, getDeveloperSecretKey(), getClientSessionTicket(), getEntityToken(), getProductionEnvironmentUrl(), getVerticalName(), getRequestGetParams());
+    }
+
+    public PlayFabApiContext withDeveloperSecretKey(String developerSecretKey) {
+        return new PlayFabApiContext(getTitleId(), developerSecretKey, getClientSessionTicket(), getEntityToken(), getProductionEnvironmentUrl(), getVerticalName(), getRequestGetParams());
+    }
+
+    public PlayFabApiContext withClientSessionTicket(String clientSessionTicket) {
+        return new PlayFabApiContext(getTitleId(), getDeveloperSecretKey(), clientSessionTicket, getEntityToken(), getProductionEnvironmentUrl(), getVerticalName(), getRequestGetParams());
+    }
+
+    public PlayFabApiContext withEntityToken(String entityToken) {
+        return new PlayFabApiContext(getTitleId(), getDeveloperSecretKey(), getClientSessionTicket(), entityToken, getProductionEnvironmentUrl(), getVerticalName(), getRequestGetParams());
+    }
+
+    /**
+     * @param productionEnvironmentUrl Only for customers running a private cluster
+     */
+    public PlayFabApiContext withProductionEnvironmentUrl(String productionEnvironmentUrl) {
+        return new PlayFabApiContext(getTitleId(), getDeveloperSecretKey(), getClientSessionTicket(), getEntityToken(), productionEnvironmentUrl, getVerticalName(), getRequestGetParams());
+    }
+
+    /**
+     * @param verticalName Only for customers running a private cluster
+     */
+    public PlayFabApiContext withVerticalName(String verticalName) {
+        return new PlayFabApiContext(getTitleId(), getDeveloperSecretKey(), getClientSessionTicket(), getEntityToken(), getProductionEnvironmentUrl(), verticalName, getRequestGetParams());
+    }
+
+    public PlayFabApiContext withRequestGetParams(Map<String, String> requestGetParams) {
+        return new PlayFabApiContext(getTitleId(), getDeveloperSecretKey(), getClientSessionTicket(), getEntityToken(), getProductionEnvironmentUrl(), getVerticalName(), requestGetParams);
+    }
+}
@@ -0,0 +1,314 @@
+package com.playfab;
+
+import java.io.IOException;
+import java.util.Date;
+import com.google.gson.*;
+import com.google.gson.reflect.TypeToken;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
+import com.playfab.PlayFabAuthenticationModels.*;
+import com.playfab.internal.PlayFabJson;
+
+/**
+ * Streaming TypeAdapters for every class in PlayFabAuthenticationModels, so models are read and written without field reflection.
+ * PlayFabJson finds FACTORY through this class name. Enums keep Gson's own adapters, which do no per-call reflection.
+ * Generated from PlayFabAuthenticationModels by PlayFabModelAdaptersGenerator, in the PlayFabSDK tests: regenerate rather than edit.
+ */
+public class PlayFabAuthenticationModelsAdapters {
+    public static final TypeAdapterFactory FACTORY = new TypeAdapterFactory() {
+        @SuppressWarnings("unchecked")
+        public <T> TypeAdapter<T> create(Gson gson, TypeToken<T> type) {
+            Class<?> raw = type.getRawType();
+            if (raw.getDeclaringClass() != PlayFabAuthenticationModels.class)
+                return null;
+            switch (raw.getSimpleName()) {
+                case "EntityKey": return (TypeAdapter<T>) new EntityKeyAdapter(gson);
+                case "EntityLineage": return (TypeAdapter<T>) new EntityLineageAdapter(gson);
+                case "GetEntityTokenRequest": return (TypeAdapter<T>) new GetEntityTokenRequestAdapter(gson);
+                case "GetEntityTokenResponse": return (TypeAdapter<T>) new GetEntityTokenResponseAdapter(gson);
+                case "ValidateEntityTokenRequest": return (TypeAdapter<T>) new ValidateEntityTokenRequestAdapter(gson);
+                case "ValidateEntityTokenResponse": return (TypeAdapter<T>) new ValidateEntityTokenResponseAdapter(gson);
+                default: return null;
+            }
+        }
+    };
+
+    private static class EntityKeyAdapter extends TypeAdapter<EntityKey> {
+        private EntityKeyAdapter(Gson gson) {
+        }
+
+        @Override
+        public void write(JsonWriter out, EntityKey value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.name("Id").value(value.Id);
+            out.name("Type").value(value.Type);
+            out.endObject();
+        }
+
+        @Override
+        public EntityKey read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            EntityKey value = new EntityKey();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "Id": value.Id = PlayFabJson.readString(in); break;
+                        case "Type": value.Type = PlayFabJson.readString(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class EntityLineageAdapter extends TypeAdapter<EntityLineage> {
+        private EntityLineageAdapter(Gson gson) {
+        }
+
+        @Override
+        public void write(JsonWriter out, EntityLineage value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.name("CharacterId").value(value.CharacterId);
+            out.name("GroupId").value(value.GroupId);
+            out.name("MasterPlayerAccountId").value(value.MasterPlayerAccountId);
+            out.name("NamespaceId").value(value.NamespaceId);
+            out.name("TitleId").value(value.TitleId);
+            out.name("TitlePlayerAccountId").value(value.TitlePlayerAccountId);
+            out.endObject();
+        }
+
+        @Override
+        public EntityLineage read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            EntityLineage value = new EntityLineage();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "CharacterId": value.CharacterId = PlayFabJson.readString(in); break;
+                        case "GroupId": value.GroupId = PlayFabJson.readString(in); break;
+                        case "MasterPlayerAccountId": value.MasterPlayerAccountId = PlayFabJson.readString(in); break;
+                        case "NamespaceId": value.NamespaceId = PlayFabJson.readString(in); break;
+                        case "TitleId": value.TitleId = PlayFabJson.readString(in); break;
+                        case "TitlePlayerAccountId": value.TitlePlayerAccountId = PlayFabJson.readString(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class GetEntityTokenRequestAdapter extends TypeAdapter<GetEntityTokenRequest> {
+        private final TypeAdapter<String> stringAdapter;
+        private final TypeAdapter<EntityKey> entityKeyAdapter;
+
+        private GetEntityTokenRequestAdapter(Gson gson) {
+            stringAdapter = gson.getAdapter(String.class);
+            entityKeyAdapter = gson.getAdapter(EntityKey.class);
+        }
+
+        @Override
+        public void write(JsonWriter out, GetEntityTokenRequest value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            PlayFabJson.writeMap(out.name("CustomTags"), value.CustomTags, stringAdapter);
+            entityKeyAdapter.write(out.name("Entity"), value.Entity);
+            out.endObject();
+        }
+
+        @Override
+        public GetEntityTokenRequest read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            GetEntityTokenRequest value = new GetEntityTokenRequest();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "CustomTags": value.CustomTags = PlayFabJson.readMap(in, stringAdapter); break;
+                        case "Entity": value.Entity = entityKeyAdapter.read(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class GetEntityTokenResponseAdapter extends TypeAdapter<GetEntityTokenResponse> {
+        private final TypeAdapter<EntityKey> entityKeyAdapter;
+        private final TypeAdapter<Date> dateAdapter;
+
+        private GetEntityTokenResponseAdapter(Gson gson) {
+            entityKeyAdapter = gson.getAdapter(EntityKey.class);
+            dateAdapter = gson.getAdapter(Date.class);
+        }
+
+        @Override
+        public void write(JsonWriter out, GetEntityTokenResponse value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            entityKeyAdapter.write(out.name("Entity"), value.Entity);
+            out.name("EntityToken").value(value.EntityToken);
+            dateAdapter.write(out.name("TokenExpiration"), value.TokenExpiration);
+            out.endObject();
+        }
+
+        @Override
+        public GetEntityTokenResponse read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            GetEntityTokenResponse value = new GetEntityTokenResponse();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "Entity": value.Entity = entityKeyAdapter.read(in); break;
+                        case "EntityToken": value.EntityToken = PlayFabJson.readString(in); break;
+                        case "TokenExpiration": value.TokenExpiration = dateAdapter.read(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class ValidateEntityTokenRequestAdapter extends TypeAdapter<ValidateEntityTokenRequest> {
+        private final TypeAdapter<String> stringAdapter;
+
+        private ValidateEntityTokenRequestAdapter(Gson gson) {
+            stringAdapter = gson.getAdapter(String.class);
+        }
+
+        @Override
+        public void write(JsonWriter out, ValidateEntityTokenRequest value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            PlayFabJson.writeMap(out.name("CustomTags"), value.CustomTags, stringAdapter);
+            out.name("EntityToken").value(value.EntityToken);
+            out.endObject();
+        }
+
+        @Override
+        public ValidateEntityTokenRequest read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            ValidateEntityTokenRequest value = new ValidateEntityTokenRequest();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "CustomTags": value.CustomTags = PlayFabJson.readMap(in, stringAdapter); break;
+                        case "EntityToken": value.EntityToken = PlayFabJson.readString(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class ValidateEntityTokenResponseAdapter extends TypeAdapter<ValidateEntityTokenResponse> {
+        private final TypeAdapter<EntityKey> entityKeyAdapter;
+        private final TypeAdapter<IdentifiedDeviceType> identifiedDeviceTypeAdapter;
+        private final TypeAdapter<LoginIdentityProvider> loginIdentityProviderAdapter;
+        private final TypeAdapter<EntityLineage> entityLineageAdapter;
+
+        private ValidateEntityTokenResponseAdapter(Gson gson) {
+            entityKeyAdapter = gson.getAdapter(EntityKey.class);
+            identifiedDeviceTypeAdapter = gson.getAdapter(IdentifiedDeviceType.class);
+            loginIdentityProviderAdapter = gson.getAdapter(LoginIdentityProvider.class);
+            entityLineageAdapter = gson.getAdapter(EntityLineage.class);
+        }
+
+        @Override
+        public void write(JsonWriter out, ValidateEntityTokenResponse value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            entityKeyAdapter.write(out.name("Entity"), value.Entity);
+            identifiedDeviceTypeAdapter.write(out.name("IdentifiedDeviceType"), value.IdentifiedDeviceType);
+            loginIdentityProviderAdapter.write(out.name("IdentityProvider"), value.IdentityProvider);
+            out.name("IdentityProviderIssuedId").value(value.IdentityProviderIssuedId);
+            entityLineageAdapter.write(out.name("Lineage"), value.Lineage);
+            out.endObject();
+        }
+
+        @Override
+        public ValidateEntityTokenResponse read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            ValidateEntityTokenResponse value = new ValidateEntityTokenResponse();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "Entity": value.Entity = entityKeyAdapter.read(in); break;
+                        case "IdentifiedDeviceType": value.IdentifiedDeviceType = identifiedDeviceTypeAdapter.read(in); break;
+                        case "IdentityProvider": value.IdentityProvider = loginIdentityProviderAdapter.read(in); break;
+                        case "IdentityProviderIssuedId": value.IdentityProviderIssuedId = PlayFabJson.readString(in); break;
+                        case "Lineage": value.Lineage = entityLineageAdapter.read(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+}
@@ -0,0 +1,81 @@
+package com.playfab;
+
+import java.util.Date;
+import java.util.Map;
+
+import com.playfab.PlayFabErrors.*;
+import com.playfab.PlayFabEventsModels.*;
+
+/**
+ * Sends the classic WritePlayerEvent, WriteCharacterEvent and WriteTitleEvent calls as entity events, batched through a
+ * PlayFabEventPipeline, so a burst of classic events costs one WriteEvents request per batch instead of one request each.
+ * Enable it with PlayFabSettings.ClassicEventRouter = new PlayFabClassicEventBatcher(pipeline). Each classic call still
+ * returns its own result, completed when its batch does, though the blocking calls can return as soon as their event is
+ * queued: see PlayFabSettings.ClassicEventWaitForBatch. Calls through instance APIs are never batched.
+ *
+ * WriteEvents needs an entity token, so call GetEntityToken first: a title entity token on a server, or the player's on a
+ * client. Events about a player become events on their master_player_account, and character events on the character.
+ * Client calls leave the entity unset, which the service reads as the calling player.
+ */
+public class PlayFabClassicEventBatcher implements PlayFabClassicEventRouter {
+    private final PlayFabEventPipeline pipeline;
+    private final String eventNamespace;
+
+    /**
+     * Batches classic events in the "custom" namespace
+     */
+    public PlayFabClassicEventBatcher(PlayFabEventPipeline pipeline) {
+        this(pipeline, "custom");
+    }
+
+    /**
+     * @param eventNamespace The namespace of the entity events. WriteEvents requires "custom" or a name starting "custom."
+     */
+    public PlayFabClassicEventBatcher(PlayFabEventPipeline pipeline, String eventNamespace) {
+        if (pipeline == null)
+            throw new NullPointerException("pipeline");
+        this.pipeline = pipeline;
+        this.eventNamespace = eventNamespace;
+    }
+
+    public PlayFabEventPipeline getPipeline() {
+        return pipeline;
+    }
+
+    public PlayFabFuture<PlayFabResult<String>> route(EventKind kind, String eventName, String playFabId, String characterId,
+        Map<String, Object> body, Map<String, String> customTags, Date timestamp) {
+        return pipeline.submit(toEventContents(kind, eventName, playFabId, characterId, body, customTags, timestamp));
+    }
+
+    /**
+     * @return the entity event equivalent to a classic event
+     */
+    public EventContents toEventContents(EventKind kind, String eventName, String playFabId, String characterId,
+        Map<String, Object> body, Map<String, String> customTags, Date timestamp) {
+        EventContents event = new EventContents();
+        event.EventNamespace = eventNamespace;
+        event.Name = eventName;
+        event.Payload = body;
+        event.CustomTags = customTags;
+        event.OriginalTimestamp = timestamp;
+        switch (kind) {
+            case Character:
+                event.Entity = entity("character", characterId);
+                break;
+            case Player:
+                event.Entity = playFabId != null ? entity("master_player_account", playFabId) : null;
+                break;
+            case Title:
+                event.Entity = PlayFabSettings.TitleId != null ? entity("title", PlayFabSettings.TitleId) : null;
+                break;
+        }
+        return event;
+    }
+
+    private static EntityKey entity(String type, String id) {
+        EntityKey key = new EntityKey();
+        key.Type = type;
+        key.Id = id;
+        return key;
+    }
+}
@@ -6,8 +6,6 @@ import com.playfab.PlayFabErrors.*;
 import com.playfab.PlayFabSettings;
 import java.util.concurrent.*;
 import java.util.*;
-import com.google.gson.*;
-import com.google.gson.reflect.*;
 
     /**
      * Store arbitrary data associated with an entity. Objects are small (~1KB) JSON-compatible objects which are stored
@@ -16,7 +14,7 @@ import com.google.gson.reflect.*;
      * flexible permissions system to control read and write access by other entities.
      */
 public class PlayFabDataAPI {
-    private static Gson gson = new GsonBuilder().setDateFormat("yyyy-MM-dd'T'HH:mm:ss.SSS'Z'").create();
+    private static final Async async = new Async();
 
     /**
      * Abort pending file uploads to an entity's profile.
@@ -27,7 +25,7 @@ public class PlayFabDataAPI {
     public static FutureTask<PlayFabResult<AbortFileUploadsResponse>> AbortFileUploadsAsync(final AbortFileUploadsRequest request) {
         return new FutureTask(new Callable<PlayFabResult<AbortFileUploadsResponse>>() {
             public PlayFabResult<AbortFileUploadsResponse> call() throws Exception {
-                return privateAbortFileUploadsAsync(request);
+                return privateAbortFileUploadsAsync(null, request);
             }
         });
     }
@@ -41,7 +39,7 @@ public class PlayFabDataAPI {
     public static PlayFabResult<AbortFileUploadsResponse> AbortFileUploads(final AbortFileUploadsRequest request) {
         FutureTask<PlayFabResult<AbortFileUploadsResponse>> task = new FutureTask(new Callable<PlayFabResult<AbortFileUploadsResponse>>() {
             public PlayFabResult<AbortFileUploadsResponse> call() throws Exception {
-                return privateAbortFileUploadsAsync(request);
+                return privateAbortFileUploadsAsync(null, request);
             }
         });
         try {
@@ -56,10 +54,12 @@ public class PlayFabDataAPI {
 
     /** Abort pending file uploads to an entity's profile. */
     @SuppressWarnings("unchecked")
-    private static PlayFabResult<AbortFileUploadsResponse> privateAbortFileUploadsAsync(final AbortFileUploadsRequest request) throws Exception {
-        if (PlayFabSettings.EntityToken == null) throw new Exception ("Must call GetEntityToken before you can use the Entity API");
+    static PlayFabResult<AbortFileUploadsResponse> privateAbortFileUploadsAsync(final PlayFabInstanceAPI instance, final AbortFileUploadsRequest request) throws Exception {
+        final PlayFabApiContext context = PlayFabInstanceAPI.contextOf(instance);
+        final String entityToken = context.getEntityToken();
+        if (entityToken == null) throw new Exception ("Must call GetEntityToken before you can use the Entity API");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/File/AbortFileUploads"), request, "X-EntityToken", PlayFabSettings.EntityToken);
+        FutureTask<Object> task = PlayFabHTTP.doPost(context.getURL("/File/AbortFileUploads"), request, "X-EntityToken", entityToken, AbortFileUploadsResponse.class);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -70,9 +70,7 @@ public class PlayFabDataAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
-
-        PlayFabJsonSuccess<AbortFileUploadsResponse> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<AbortFileUploadsResponse>>(){}.getType());
+        PlayFabJsonSuccess<AbortFileUploadsResponse> resultData = (PlayFabJsonSuccess<AbortFileUploadsResponse>) httpResult;
         AbortFileUploadsResponse result = resultData.data;
 
         PlayFabResult<AbortFileUploadsResponse> pfResult = new PlayFabResult<AbortFileUploadsResponse>();
@@ -89,7 +87,7 @@ public class PlayFabDataAPI {
     public static FutureTask<PlayFabResult<DeleteFilesResponse>> DeleteFilesAsync(final DeleteFilesRequest request) {
         return new FutureTask(new Callable<PlayFabResult<DeleteFilesResponse>>() {
             public PlayFabResult<DeleteFilesResponse> call() throws Exception {
-                return privateDeleteFilesAsync(request);
+                return privateDeleteFilesAsync(null, request);
             }
         });
     }
@@ -103,7 +101,7 @@ public class PlayFabDataAPI {
     public static PlayFabResult<DeleteFilesResponse> DeleteFiles(final DeleteFilesRequest request) {
         FutureTask<PlayFabResult<DeleteFilesResponse>> task = new FutureTask(new Callable<PlayFabResult<DeleteFilesResponse>>() {
             public PlayFabResult<DeleteFilesResponse> call() throws Exception {
-                return privateDeleteFilesAsync(request);
+                return privateDeleteFilesAsync(null, request);
             }
         });
         try {
@@ -118,10 +116,12 @@ public class PlayFabDataAPI {
 
     /** Delete files on an entity's profile. */
     @SuppressWarnings("unchecked")
-    private static PlayFabResult<DeleteFilesResponse> privateDeleteFilesAsync(final DeleteFilesRequest request) throws Exception {
-        if (PlayFabSettings.EntityToken == null) throw new Exception ("Must call GetEntityToken before you can use the Entity API");
+    static PlayFabResult<DeleteFilesResponse> privateDeleteFilesAsync(final PlayFabInstanceAPI instance, final DeleteFilesRequest request) throws Exception {
+        final PlayFabApiContext context = PlayFabInstanceAPI.contextOf(instance);
+        final String entityToken = context.getEntityToken();
+        if (entityToken == null) throw new Exception ("Must call GetEntityToken before you can use the Entity API");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/File/DeleteFiles"), request, "X-EntityToken", PlayFabSettings.EntityToken);
+        FutureTask<Object> task = PlayFabHTTP.doPost(context.getURL("/File/DeleteFiles"), request, "X-EntityToken", entityToken, DeleteFilesResponse.class);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -132,9 +132,7 @@ public class PlayFabDataAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
-
-        PlayFabJsonSuccess<DeleteFilesResponse> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<DeleteFilesResponse>>(){}.getType());
+        PlayFabJsonSuccess<DeleteFilesResponse> resultData = (PlayFabJsonSuccess<DeleteFilesResponse>) httpResult;
         DeleteFilesResponse result = resultData.data;
 
         PlayFabResult<DeleteFilesResponse> pfResult = new PlayFabResult<DeleteFilesResponse>();
@@ -151,7 +149,7 @@ public class PlayFabDataAPI {
     public static FutureTask<PlayFabResult<FinalizeFileUploadsResponse>> FinalizeFileUploadsAsync(final FinalizeFileUploadsRequest request) {
         return new FutureTask(new Callable<PlayFabResult<FinalizeFileUploadsResponse>>() {
             public PlayFabResult<FinalizeFileUploadsResponse> call() throws Exception {
-                return privateFinalizeFileUploadsAsync(request);
+                return privateFinalizeFileUploadsAsync(null, request);
             }
         });
     }
@@ -165,7 +163,7 @@ public class PlayFabDataAPI {
     public static PlayFabResult<FinalizeFileUploadsResponse> FinalizeFileUploads(final FinalizeFileUploadsRequest request) {
         FutureTask<PlayFabResult<FinalizeFileUploadsResponse>> task = new FutureTask(new Callable<PlayFabResult<FinalizeFileUploadsResponse>>() {
             public PlayFabResult<FinalizeFileUploadsResponse> call() throws Exception {
-                return privateFinalizeFileUploadsAsync(request);
+                return privateFinalizeFileUploadsAsync(null, request);
             }
         });
         try {
@@ -180,10 +178,12 @@ public class PlayFabDataAPI {
 
     /** Finalize file uploads to an entity's profile. */
     @SuppressWarnings("unchecked")
-    private static PlayFabResult<FinalizeFileUploadsResponse> privateFinalizeFileUploadsAsync(final FinalizeFileUploadsRequest request) throws Exception {
-        if (PlayFabSettings.EntityToken == null) throw new Exception ("Must call GetEntityToken before you can use the Entity API");
+    static PlayFabResult<FinalizeFileUploadsResponse> privateFinalizeFileUploadsAsync(final PlayFabInstanceAPI instance, final FinalizeFileUploadsRequest request) throws Exception {
+        final PlayFabApiContext context = PlayFabInstanceAPI.contextOf(instance);
+        final String entityToken = context.getEntityToken();
+        if (entityToken == null) throw new Exception ("Must call GetEntityToken before you can use the Entity API");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/File/FinalizeFileUploads"), request, "X-EntityToken", PlayFabSettings.EntityToken);
+        FutureTask<Object> task = PlayFabHTTP.doPost(context.getURL("/File/FinalizeFileUploads"), request, "X-EntityToken", entityToken, FinalizeFileUploadsResponse.class);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -194,9 +194,7 @@ public class PlayFabDataAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
-
-        PlayFabJsonSuccess<FinalizeFileUploadsResponse> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<FinalizeFileUploadsResponse>>(){}.getType());
+        PlayFabJsonSuccess<FinalizeFileUploadsResponse> resultData = (PlayFabJsonSuccess<FinalizeFileUploadsResponse>) httpResult;
         FinalizeFileUploadsResponse result = resultData.data;
 
         PlayFabResult<FinalizeFileUploadsResponse> pfResult = new PlayFabResult<FinalizeFileUploadsResponse>();
@@ -213,7 +211,7 @@ public class PlayFabDataAPI {
     public static FutureTask<PlayFabResult<GetFilesResponse>> GetFilesAsync(final GetFilesRequest request) {
         return new FutureTask(new Callable<PlayFabResult<GetFilesResponse>>() {
             public PlayFabResult<GetFilesResponse> call() throws Exception {
-                return privateGetFilesAsync(request);
+                return privateGetFilesAsync(null, request);
             }
         });
     }
@@ -227,7 +225,7 @@ public class PlayFabDataAPI {
     public static PlayFabResult<GetFilesResponse> GetFiles(final GetFilesRequest request) {
         FutureTask<PlayFabResult<GetFilesResponse>> task = new FutureTask(new Callable<PlayFabResult<GetFilesResponse>>() {
             public PlayFabResult<GetFilesResponse> call() throws Exception {
-                return privateGetFilesAsync(request);
+                return privateGetFilesAsync(null, request);
             }
         });
         try {
@@ -242,10 +240,12 @@ public class PlayFabDataAPI {
 
     /** Retrieves file metadata from an entity's profile. */
     @SuppressWarnings("unchecked")
-    private static PlayFabResult<GetFilesResponse> privateGetFilesAsync(final GetFilesRequest request) throws Exception {
-        if (PlayFabSettings.EntityToken == null) throw new Exception ("Must call GetEntityToken before you can use the Entity API");
+    static PlayFabResult<GetFilesResponse> privateGetFilesAsync(final PlayFabInstanceAPI instance, final GetFilesRequest request) throws Exception {
+        final PlayFabApiContext context = PlayFabInstanceAPI.contextOf(instance);
+        final String entityToken = context.getEntityToken();
+        if (entityToken == null) throw new Exception ("Must call GetEntityToken before you can use the Entity API");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/File/GetFiles"), request, "X-EntityToken", PlayFabSettings.EntityToken);
+        FutureTask<Object> task = PlayFabHTTP.doPost(context.getURL("/File/GetFiles"), request, "X-EntityToken", entityToken, GetFilesResponse.class);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -256,9 +256,7 @@ public class PlayFabDataAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
-
-        PlayFabJsonSuccess<GetFilesResponse> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<GetFilesResponse>>(){}.getType());
+        PlayFabJsonSuccess<GetFilesResponse> resultData = (PlayFabJsonSuccess<GetFilesResponse>) httpResult;
         GetFilesResponse result = resultData.data;
 
         PlayFabResult<GetFilesResponse> pfResult = new PlayFabResult<GetFilesResponse>();
@@ -275,7 +273,7 @@ public class PlayFabDataAPI {
     public static FutureTask<PlayFabResult<GetObjectsResponse>> GetObjectsAsync(final GetObjectsRequest request) {
         return new FutureTask(new Callable<PlayFabResult<GetObjectsResponse>>() {
             public PlayFabResult<GetObjectsResponse> call() throws Exception {
-                return privateGetObjectsAsync(request);
+                return privateGetObjectsAsync(null, request);
             }
         });
     }
@@ -289,7 +287,7 @@ public class PlayFabDataAPI {
     public static PlayFabResult<GetObjectsResponse> GetObjects(final GetObjectsRequest request) {
         FutureTask<PlayFabResult<GetObjectsResponse>> task = new FutureTask(new Callable<PlayFabResult<GetObjectsResponse>>() {
             public PlayFabResult<GetObjectsResponse> call() throws Exception {
-                return privateGetObjectsAsync(request);
+                return privateGetObjectsAsync(null, request);
             }
         });
         try {
@@ -304,10 +302,12 @@ public class PlayFabDataAPI {
 
     /** Retrieves objects from an entity's profile. */
     @SuppressWarnings("unchecked")
-    private static PlayFabResult<GetObjectsResponse> privateGetObjectsAsync(final GetObjectsRequest request) throws Exception {
-        if (PlayFabSettings.EntityToken == null) throw new Exception ("Must call GetEntityToken before you can use the Entity API");
+    static PlayFabResult<GetObjectsResponse> privateGetObjectsAsync(final PlayFabInstanceAPI instance, final GetObjectsRequest request) throws Exception {
+        final PlayFabApiContext context = PlayFabInstanceAPI.contextOf(instance);
+        final String entityToken = context.getEntityToken();
+        if (entityToken == null) throw new Exception ("Must call GetEntityToken before you can use the Entity API");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Object/GetObjects"), request, "X-EntityToken", PlayFabSettings.EntityToken);
+        FutureTask<Object> task = PlayFabHTTP.doPost(context.getURL("/Object/GetObjects"), request, "X-EntityToken", entityToken, GetObjectsResponse.class);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -318,9 +318,7 @@ public class PlayFabDataAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
-
-        PlayFabJsonSuccess<GetObjectsResponse> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<GetObjectsResponse>>(){}.getType());
+        PlayFabJsonSuccess<GetObjectsResponse> resultData = (PlayFabJsonSuccess<GetObjectsResponse>) httpResult;
         GetObjectsResponse result = resultData.data;
 
         PlayFabResult<GetObjectsResponse> pfResult = new PlayFabResult<GetObjectsResponse>();
@@ -337,7 +335,7 @@ public class PlayFabDataAPI {
     public static FutureTask<PlayFabResult<InitiateFileUploadsResponse>> InitiateFileUploadsAsync(final InitiateFileUploadsRequest request) {
         return new FutureTask(new Callable<PlayFabResult<InitiateFileUploadsResponse>>() {
             public PlayFabResult<InitiateFileUploadsResponse> call() throws Exception {
-                return privateInitiateFileUploadsAsync(request);
+                return privateInitiateFileUploadsAsync(null, request);
             }
         });
     }
@@ -351,7 +349,7 @@ public class PlayFabDataAPI {
     public static PlayFabResult<InitiateFileUploadsResponse> InitiateFileUploads(final InitiateFileUploadsRequest request) {
         FutureTask<PlayFabResult<InitiateFileUploadsResponse>> task = new FutureTask(new Callable<PlayFabResult<InitiateFileUploadsResponse>>() {
             public PlayFabResult<InitiateFileUploadsResponse> call() throws Exception {
-                return privateInitiateFileUploadsAsync(request);
+                return privateInitiateFileUploadsAsync(null, request);
             }
         });
         try {
@@ -366,10 +364,12 @@ public class PlayFabDataAPI {
 
     /** Initiates file uploads to an entity's profile. */
     @SuppressWarnings("unchecked")
-    private static PlayFabResult<InitiateFileUploadsResponse> privateInitiateFileUploadsAsync(final InitiateFileUploadsRequest request) throws Exception {
-        if (PlayFabSettings.EntityToken == null) throw new Exception ("Must call GetEntityToken before you can use the Entity API");
+    static PlayFabResult<InitiateFileUploadsResponse> privateInitiateFileUploadsAsync(final PlayFabInstanceAPI instance, final InitiateFileUploadsRequest request) throws Exception {
+        final PlayFabApiContext context = PlayFabInstanceAPI.contextOf(instance);
+        final String entityToken = context.getEntityToken();
+        if (entityToken == null) throw new Exception ("Must call GetEntityToken before you can use the Entity API");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/File/InitiateFileUploads"), request, "X-EntityToken", PlayFabSettings.EntityToken);
+        FutureTask<Object> task = PlayFabHTTP.doPost(context.getURL("/File/InitiateFileUploads"), request, "X-EntityToken", entityToken, InitiateFileUploadsResponse.class);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -380,9 +380,7 @@ public class PlayFabDataAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
-
-        PlayFabJsonSuccess<InitiateFileUploadsResponse> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<InitiateFileUploadsResponse>>(){}.getType());
+        PlayFabJsonSuccess<InitiateFileUploadsResponse> resultData = (PlayFabJsonSuccess<InitiateFileUploadsResponse>) httpResult;
         InitiateFileUploadsResponse result = resultData.data;
 
         PlayFabResult<InitiateFileUploadsResponse> pfResult = new PlayFabResult<InitiateFileUploadsResponse>();
@@ -399,7 +397,7 @@ public class PlayFabDataAPI {
     public static FutureTask<PlayFabResult<SetObjectsResponse>> SetObjectsAsync(final SetObjectsRequest request) {
         return new FutureTask(new Callable<PlayFabResult<SetObjectsResponse>>() {
             public PlayFabResult<SetObjectsResponse> call() throws Exception {
-                return privateSetObjectsAsync(request);
+                return privateSetObjectsAsync(null, request);
             }
         });
     }
@@ -413,7 +411,7 @@ public class PlayFabDataAPI {
     public static PlayFabResult<SetObjectsResponse> SetObjects(final SetObjectsRequest request) {
         FutureTask<PlayFabResult<SetObjectsResponse>> task = new FutureTask(new Callable<PlayFabResult<SetObjectsResponse>>() {
             public PlayFabResult<SetObjectsResponse> call() throws Exception {
-                return privateSetObjectsAsync(request);
+                return privateSetObjectsAsync(null, request);
             }
         });
         try {
@@ -428,10 +426,12 @@ public class PlayFabDataAPI {
 
     /** Sets objects on an entity's profile. */
     @SuppressWarnings("unchecked")
-    private static PlayFabResult<SetObjectsResponse> privateSetObjectsAsync(final SetObjectsRequest request) throws Exception {
-        if (PlayFabSettings.EntityToken == null) throw new Exception ("Must call GetEntityToken before you can use the Entity API");
+    static PlayFabResult<SetObjectsResponse> privateSetObjectsAsync(final PlayFabInstanceAPI instance, final SetObjectsRequest request) throws Exception {
+        final PlayFabApiContext context = PlayFabInstanceAPI.contextOf(instance);
+        final String entityToken = context.getEntityToken();
+        if (entityToken == null) throw new Exception ("Must call GetEntityToken before you can use the Entity API");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Object/SetObjects"), request, "X-EntityToken", PlayFabSettings.EntityToken);
+        FutureTask<Object> task = PlayFabHTTP.doPost(context.getURL("/Object/SetObjects"), request, "X-EntityToken", entityToken, SetObjectsResponse.class);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -442,9 +442,7 @@ public class PlayFabDataAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
-
-        PlayFabJsonSuccess<SetObjectsResponse> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<SetObjectsResponse>>(){}.getType());
+        PlayFabJsonSuccess<SetObjectsResponse> resultData = (PlayFabJsonSuccess<SetObjectsResponse>) httpResult;
         SetObjectsResponse result = resultData.data;
 
         PlayFabResult<SetObjectsResponse> pfResult = new PlayFabResult<SetObjectsResponse>();
@@ -452,4 +450,109 @@ public class PlayFabDataAPI {
         return pfResult;
     }
 
+    /**
+     * @return Non-blocking versions of every PlayFabDataAPI call, started on PlayFabSettings.AsyncExecutor
+     */
+    public static Async async() {
+        return async;
+    }
+
+    /**
+     * Non-blocking versions of the PlayFabDataAPI calls. Each call is already running when its PlayFabFuture is returned.
+     */
+    public static class Async {
+        private Async() {
+        }
+
+        /**
+         * Abort pending file uploads to an entity's profile.
+         * @param request AbortFileUploadsRequest
+         * @return Running future that will complete with AbortFileUploadsResponse
+         */
+        public PlayFabFuture<PlayFabResult<AbortFileUploadsResponse>> AbortFileUploads(final AbortFileUploadsRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<AbortFileUploadsResponse>>() {
+                public PlayFabResult<AbortFileUploadsResponse> call() throws Exception {
+                    return privateAbortFileUploadsAsync(null, request);
+                }
+            });
+        }
+
+        /**
+         * Delete files on an entity's profile.
+         * @param request DeleteFilesRequest
+         * @return Running future that will complete with DeleteFilesResponse
+         */
+        public PlayFabFuture<PlayFabResult<DeleteFilesResponse>> DeleteFiles(final DeleteFilesRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<DeleteFilesResponse>>() {
+                public PlayFabResult<DeleteFilesResponse> call() throws Exception {
+                    return privateDeleteFilesAsync(null, request);
+                }
+            });
+        }
+
+        /**
+         * Finalize file uploads to an entity's profile.
+         * @param request FinalizeFileUploadsRequest
+         * @return Running future that will complete with FinalizeFileUploadsResponse
+         */
+        public PlayFabFuture<PlayFabResult<FinalizeFileUploadsResponse>> FinalizeFileUploads(final FinalizeFileUploadsRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<FinalizeFileUploadsResponse>>() {
+                public PlayFabResult<FinalizeFileUploadsResponse> call() throws Exception {
+                    return privateFinalizeFileUploadsAsync(null, request);
+                }
+            });
+        }
+
+        /**
+         * Retrieves file metadata from an entity's profile.
+         * @param request GetFilesRequest
+         * @return Running future that will complete with GetFilesResponse
+         */
+        public PlayFabFuture<PlayFabResult<GetFilesResponse>> GetFiles(final GetFilesRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<GetFilesResponse>>() {
+                public PlayFabResult<GetFilesResponse> call() throws Exception {
+                    return privateGetFilesAsync(null, request);
+                }
+            });
+        }
+
+        /**
+         * Retrieves objects from an entity's profile.
+         * @param request GetObjectsRequest
+         * @return Running future that will complete with GetObjectsResponse
+         */
+        public PlayFabFuture<PlayFabResult<GetObjectsResponse>> GetObjects(final GetObjectsRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<GetObjectsResponse>>() {
+                public PlayFabResult<GetObjectsResponse> call() throws Exception {
+                    return privateGetObjectsAsync(null, request);
+                }
+            });
+        }
+
+        /**
+         * Initiates file uploads to an entity's profile.
+         * @param request InitiateFileUploadsRequest
+         * @return Running future that will complete with InitiateFileUploadsResponse
+         */
+        public PlayFabFuture<PlayFabResult<InitiateFileUploadsResponse>> InitiateFileUploads(final InitiateFileUploadsRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<InitiateFileUploadsResponse>>() {
+                public PlayFabResult<InitiateFileUploadsResponse> call() throws Exception {
+                    return privateInitiateFileUploadsAsync(null, request);
+                }
+            });
+        }
+
+        /**
+         * Sets objects on an entity's profile.
+         * @param request SetObjectsRequest
+         * @return Running future that will complete with SetObjectsResponse
+         */
+        public PlayFabFuture<PlayFabResult<SetObjectsResponse>> SetObjects(final SetObjectsRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<SetObjectsResponse>>() {
+                public PlayFabResult<SetObjectsResponse> call() throws Exception {
+                    return privateSetObjectsAsync(null, request);
+                }
+            });
+        }
+    }
 }
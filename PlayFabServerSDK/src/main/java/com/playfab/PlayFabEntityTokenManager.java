@@ -0,0 +1,271 @@
+package com.playfab;
+
+import java.io.Closeable;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.*;
+
+import com.playfab.PlayFabAuthenticationModels.*;
+import com.playfab.PlayFabErrors.*;
+import com.playfab.internal.PlayFabExecutors;
+import com.playfab.internal.PlayFabHTTP;
+
+/**
+ * Keeps entity tokens fresh, so the entity APIs (PlayFabDataAPI, PlayFabEventsAPI, PlayFabGroupsAPI, ...) always have one.
+ * Each entity's token is fetched with GetEntityToken, and fetched again in the background RefreshAheadMilliseconds before
+ * its TokenExpiration. A failed refresh is retried with backoff while the old token stays in use.
+ *
+ * getEntityToken() never waits: it returns the current token, or null if none is valid yet, and starts a refresh if one
+ * is due and the entity is not backing off from a failed one, so readers cannot flood GetEntityToken while the
+ * credentials are rejected. Refreshes of an entity are single-flight: however many threads ask at once, one
+ * GetEntityToken call is made and they share its result. Call refresh(entity).get() at startup to wait for the first token.
+ *
+ * Set PlayFabSettings.EntityTokenManager to serve the static API classes, or call setEntityTokenManager on an instance API.
+ * Tokens are fetched with the developer secret key or session ticket of the credentials context, or of PlayFabSettings for
+ * a manager created without one. The entity null stands for the caller's own entity: the title for a secret key, the
+ * player for a session ticket.
+ */
+public class PlayFabEntityTokenManager implements Closeable {
+    private static final long MIN_RETRY_MILLISECONDS = 1000;
+    private static final long MAX_RETRY_MILLISECONDS = 60000;
+
+    public static class Stats {
+        public int entities;
+        public long refreshes; // GetEntityToken calls made
+        public long failures; // GetEntityToken calls that failed
+        public long coalesced; // Refreshes asked for while one was already in flight for the entity, and joined to it
+        public long misses; // Reads that found no valid token
+    }
+
+    private static class Token {
+        private final String value;
+        private final long expiresAt; // Wall clock, as TokenExpiration is
+        private final long refreshAt;
+
+        private Token(String value, long expiresAt, long refreshAt) {
+            this.value = value;
+            this.expiresAt = expiresAt;
+            this.refreshAt = refreshAt;
+        }
+    }
+
+    private class Entry {
+        private final EntityKey entity;
+        private final AtomicReference<Token> token = new AtomicReference<Token>();
+        private final AtomicReference<PlayFabFuture<PlayFabResult<GetEntityTokenResponse>>> refreshing =
+            new AtomicReference<PlayFabFuture<PlayFabResult<GetEntityTokenResponse>>>();
+        private final AtomicInteger failures = new AtomicInteger();
+        private volatile long nextAttemptAt = 0; // After a failed refresh, readers start none before this time
+        private volatile ScheduledFuture<?> scheduled = null;
+
+        private Entry(EntityKey entity) {
+            this.entity = entity;
+        }
+    }
+
+    private final PlayFabApiContext credentials;
+    private final long refreshAheadMilliseconds;
+    private final ConcurrentHashMap<String, Entry> entries = new ConcurrentHashMap<String, Entry>();
+    private final ScheduledThreadPoolExecutor scheduler;
+    private volatile boolean closed = false;
+
+    private final AtomicLong refreshes = new AtomicLong();
+    private final AtomicLong failures = new AtomicLong();
+    private final AtomicLong coalesced = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+
+    /**
+     * A manager fetching tokens with the credentials in PlayFabSettings
+     * @param refreshAheadMilliseconds How long before a token expires to fetch its replacement
+     */
+    public PlayFabEntityTokenManager(long refreshAheadMilliseconds) {
+        this(null, refreshAheadMilliseconds);
+    }
+
+    /**
+     * @param credentials The title and the developer secret key or session ticket to fetch tokens with
+     * @param refreshAheadMilliseconds How long before a token expires to fetch its replacement
+     */
+    public PlayFabEntityTokenManager(PlayFabApiContext credentials, long refreshAheadMilliseconds) {
+        this.credentials = credentials;
+        this.refreshAheadMilliseconds = Math.max(0, refreshAheadMilliseconds);
+        scheduler = new ScheduledThreadPoolExecutor(1, PlayFabExecutors.newDaemonThreadFactory("PlayFab-entity-token-"));
+        scheduler.setRemoveOnCancelPolicy(true);
+    }
+
+    /**
+     * @return the caller's own entity token, without waiting
+     */
+    public String getEntityToken() {
+        return getEntityToken(null);
+    }
+
+    /**
+     * Returns the entity's current token without waiting. Starts a refresh if the token is due for one, or if there is none,
+     * unless the last refresh failed and its backoff has not passed
+     * @return the token, or null if the entity has no unexpired token yet
+     */
+    public String getEntityToken(EntityKey entity) {
+        Entry entry = entry(entity);
+        Token token = entry.token.get();
+        long now = System.currentTimeMillis();
+        if ((token == null || now >= token.refreshAt) && now >= entry.nextAttemptAt)
+            refresh(entry);
+        if (token == null || now >= token.expiresAt) {
+            misses.incrementAndGet();
+            return null;
+        }
+        return token.value;
+    }
+
+    /**
+     * @return the expiry of the entity's current token, null if it has none or it never expires
+     */
+    public Date getTokenExpiration(EntityKey entity) {
+        Token token = entry(entity).token.get();
+        return token != null && token.expiresAt != Long.MAX_VALUE ? new Date(token.expiresAt) : null;
+    }
+
+    /**
+     * Fetches a new token for the entity, or joins the fetch already in flight for it, whether or not it is backing off
+     * @return a future completing with the GetEntityToken result
+     */
+    public PlayFabFuture<PlayFabResult<GetEntityTokenResponse>> refresh(EntityKey entity) {
+        return refresh(entry(entity));
+    }
+
+    /**
+     * Uses a token obtained some other way, such as from a login result, until it is due for refresh
+     * @param expiration When the token expires, null if it does not
+     */
+    public void setEntityToken(EntityKey entity, String entityToken, Date expiration) {
+        accept(entry(entity), entityToken, expiration);
+    }
+
+    /**
+     * Stops refreshing tokens. Tokens already fetched are still served until they expire
+     */
+    public void close() {
+        closed = true;
+        scheduler.shutdownNow();
+    }
+
+    public Stats getStats() {
+        Stats stats = new Stats();
+        stats.entities = entries.size();
+        stats.refreshes = refreshes.get();
+        stats.failures = failures.get();
+        stats.coalesced = coalesced.get();
+        stats.misses = misses.get();
+        return stats;
+    }
+
+    private Entry entry(EntityKey entity) {
+        String key = entity != null ? entity.Type + "/" + entity.Id : "";
+        Entry entry = entries.get(key);
+        if (entry == null) {
+            Entry created = new Entry(entity);
+            entry = entries.putIfAbsent(key, created);
+            if (entry == null)
+                entry = created;
+        }
+        return entry;
+    }
+
+    private PlayFabFuture<PlayFabResult<GetEntityTokenResponse>> refresh(final Entry entry) {
+        final PlayFabFuture<PlayFabResult<GetEntityTokenResponse>> result = PlayFabFuture.incomplete();
+        while (true) {
+            PlayFabFuture<PlayFabResult<GetEntityTokenResponse>> running = entry.refreshing.get();
+            if (running != null) {
+                coalesced.incrementAndGet();
+                return running;
+            }
+            if (entry.refreshing.compareAndSet(null, result))
+                break;
+        }
+
+        if (closed) {
+            entry.refreshing.set(null);
+            result.complete(failed("The entity token manager is closed"));
+            return result;
+        }
+
+        refreshes.incrementAndGet();
+        try {
+            PlayFabExecutors.getAsyncExecutor().execute(new Runnable() {
+                public void run() {
+                    PlayFabResult<GetEntityTokenResponse> fetched;
+                    try {
+                        fetched = fetch(entry.entity);
+                    } catch (Exception e) {
+                        fetched = failed(e.getMessage());
+                    }
+                    if (fetched.Error == null && fetched.Result != null && fetched.Result.EntityToken != null) {
+                        entry.failures.set(0);
+                        accept(entry, fetched.Result.EntityToken, fetched.Result.TokenExpiration);
+                    } else {
+                        failures.incrementAndGet();
+                        retryLater(entry);
+                    }
+                    entry.refreshing.set(null);
+                    result.complete(fetched);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            failures.incrementAndGet();
+            entry.refreshing.set(null);
+            result.complete(failed(e.getMessage()));
+        }
+        return result;
+    }
+
+    private PlayFabResult<GetEntityTokenResponse> fetch(EntityKey entity) throws Exception {
+        PlayFabApiContext context = credentials != null ? credentials : PlayFabApiContext.fromSettings(null);
+        GetEntityTokenRequest request = new GetEntityTokenRequest();
+        request.Entity = entity;
+        // Without an entity token in the context, GetEntityToken signs in with the session ticket or secret key
+        return PlayFabAuthenticationAPI.privateGetEntityTokenAsync(new PlayFabAuthenticationInstanceAPI(context.withEntityToken(null)), request);
+    }
+
+    private void accept(final Entry entry, String entityToken, Date expiration) {
+        long now = System.currentTimeMillis();
+        long expiresAt = expiration != null ? expiration.getTime() : Long.MAX_VALUE;
+        // Tokens living less than twice the refresh-ahead time are refreshed halfway through their life instead
+        long refreshAt = expiresAt == Long.MAX_VALUE ? Long.MAX_VALUE
+            : expiresAt - Math.min(refreshAheadMilliseconds, Math.max(0, expiresAt - now) / 2);
+        entry.token.set(new Token(entityToken, expiresAt, refreshAt));
+        entry.nextAttemptAt = 0;
+        if (refreshAt != Long.MAX_VALUE)
+            schedule(entry, refreshAt - now);
+    }
+
+    private void retryLater(Entry entry) {
+        int failed = Math.min(entry.failures.incrementAndGet(), 16);
+        long delay = Math.min(MAX_RETRY_MILLISECONDS, MIN_RETRY_MILLISECONDS << (failed - 1));
+        entry.nextAttemptAt = System.currentTimeMillis() + delay;
+        schedule(entry, delay);
+    }
+
+    private void schedule(final Entry entry, long delayMilliseconds) {
+        if (closed)
+            return;
+        ScheduledFuture<?> previous = entry.scheduled;
+        if (previous != null)
+            previous.cancel(false);
+        try {
+            entry.scheduled = scheduler.schedule(new Runnable() {
+                public void run() {
+                    refresh(entry);
+                }
+            }, Math.max(0, delayMilliseconds), TimeUnit.MILLISECONDS);
+        } catch (RejectedExecutionException e) {
+            // Closed meanwhile
+        }
+    }
+
+    private static PlayFabResult<GetEntityTokenResponse> failed(String reason) {
+        PlayFabResult<GetEntityTokenResponse> result = new PlayFabResult<GetEntityTokenResponse>();
+        result.Error = PlayFabHTTP.GeneratePfError(-1, PlayFabErrorCode.Unknown, reason, null, null);
+        return result;
+    }
+}
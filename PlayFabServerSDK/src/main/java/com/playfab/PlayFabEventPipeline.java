@@ -0,0 +1,603 @@
+package com.playfab;
+
+import java.io.*;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.*;
+import java.util.concurrent.locks.LockSupport;
+
+import com.playfab.PlayFabErrors.*;
+import com.playfab.PlayFabEventsModels.*;
+import com.playfab.internal.PlayFabDateTypeAdapter;
+import com.playfab.internal.PlayFabExecutors;
+import com.playfab.internal.PlayFabHTTP;
+import com.playfab.internal.PlayFabJson;
+import com.playfab.internal.PlayFabUtf8Writer;
+
+/**
+ * Collects single events from any thread and sends them through PlayFabEventsAPI in batches.
+ *
+ * add() appends to a lock-free queue and returns at once. A background thread sends a batch as soon as enough events are
+ * waiting, once the oldest event has waited MaxLatencyMilliseconds, or when flush() is called. A batch holds at most
+ * MAX_EVENTS_PER_REQUEST events and MaxBatchBytes of serialized events, and up to MaxConcurrentBatches are in flight at
+ * once. The batch size adapts to request latency: it shrinks while requests take longer than
+ * TargetRequestLatencyMilliseconds, and grows back while they are faster and events are queuing.
+ *
+ * MaxPendingEvents bounds the queue, and the Backpressure policy decides what add() does when it is full: wait for room,
+ * drop the oldest queued event, drop the new one, or start sampling each EventNamespace before the queue fills. Dropped and
+ * delayed events are counted per namespace.
+ *
+ * submit() queues an event like add(), and returns a future for the id the service assigns it, or the error of its batch.
+ */
+public class PlayFabEventPipeline implements Closeable {
+    public static final int MAX_EVENTS_PER_REQUEST = 200; // Service limit on the events in one WriteEvents request
+
+    public enum Backpressure {
+        Block, // add() waits up to BlockTimeoutMilliseconds for room, then drops the new event
+        DropOldest, // add() makes room by dropping the event that has waited longest
+        DropNewest, // add() drops the new event
+        SampleByNamespace // Past SampleAboveFraction of capacity, add() keeps each namespace's events at its sample rate. When full, drops the new event
+    }
+
+    /**
+     * Pipeline configuration, read when the pipeline is created
+     */
+    public static class Settings {
+        public boolean Telemetry = false; // Send through WriteTelemetryEvents, which bypasses PlayStream, instead of WriteEvents
+        public Map<String, String> CustomTags = null; // Request-level tags sent with every batch
+        public long MaxLatencyMilliseconds = 1000; // Longest an event waits before a batch containing it is sent
+        public int MaxBatchSize = MAX_EVENTS_PER_REQUEST; // Most events per request. Capped at MAX_EVENTS_PER_REQUEST
+        public int MinBatchSize = 10; // Smallest batch size the latency adaptation shrinks to
+        public long MaxBatchBytes = 1024 * 1024; // Most serialized event bytes per request. 0 sends batches of any size
+        public long TargetRequestLatencyMilliseconds = 500; // Batches shrink while the average request takes longer than this
+        public int MaxConcurrentBatches = 8; // Batches in flight at once. Further batches wait for one to complete
+        public BatchCallback BatchHandler = null; // Told the outcome of every batch, for logging or re-queueing failed events
+        public int MaxPendingEvents = 10000; // Most events queued and not yet sent. 0 leaves the queue unbounded
+        public Backpressure Backpressure = PlayFabEventPipeline.Backpressure.DropOldest; // What add() does when the queue is full
+        public long BlockTimeoutMilliseconds = 100; // Longest add() waits for room under Backpressure.Block
+        public double SampleAboveFraction = 0.5; // Fraction of MaxPendingEvents at which SampleByNamespace starts sampling
+        public double DefaultSampleRate = 0.1; // Fraction of events kept while sampling, for namespaces not in SampleRates
+        public Map<String, Double> SampleRates = null; // Fraction of events kept while sampling, by EventNamespace
+    }
+
+    public static interface BatchCallback {
+        /**
+         * @param result The WriteEvents result, which may hold a PlayFabError. Null if the call threw
+         * @param error The exception thrown by the call, otherwise null
+         */
+        public void onBatchComplete(List<EventContents> events, PlayFabResult<WriteEventsResponse> result, Throwable error);
+    }
+
+    public static class Stats {
+        public long added;
+        public long sent;
+        public long failed;
+        public long batches;
+        public long failedBatches;
+        public int pending;
+        public int inFlightBatches;
+        public int batchSize; // Current adapted batch size
+        public double averageRequestMilliseconds;
+        public long dropped;
+        public long delayed;
+    }
+
+    public static class NamespaceStats {
+        public long dropped; // Dropped by the backpressure policy, including events sampled out
+        public long delayed; // Held in add() waiting for room
+    }
+
+    private static class NamespaceCounters {
+        private final AtomicLong dropped = new AtomicLong();
+        private final AtomicLong delayed = new AtomicLong();
+    }
+
+    private static class Entry {
+        private final EventContents event;
+        private final long addedNanos;
+        private final long bytes; // Estimated serialized size, worked out once by add(). 0 when MaxBatchBytes is 0
+        private final PlayFabFuture<PlayFabResult<String>> result; // Null for events queued by add()
+
+        private Entry(EventContents event, long addedNanos, long bytes, PlayFabFuture<PlayFabResult<String>> result) {
+            this.event = event;
+            this.addedNanos = addedNanos;
+            this.bytes = bytes;
+            this.result = result;
+        }
+    }
+
+    private final boolean telemetry;
+    private final Map<String, String> customTags;
+    private final long maxLatencyNanos;
+    private final int maxBatchSize;
+    private final int minBatchSize;
+    private final long maxBatchBytes;
+    private final double targetLatencyMs;
+    private final int maxConcurrentBatches;
+    private final BatchCallback batchHandler;
+    private final int maxPending;
+    private final Backpressure backpressure;
+    private final long blockTimeoutNanos;
+    private final int sampleAbove;
+    private final double defaultSampleRate;
+    private final Map<String, Double> sampleRates;
+
+    private final ConcurrentLinkedQueue<Entry> queue = new ConcurrentLinkedQueue<Entry>();
+    private final AtomicInteger pending = new AtomicInteger();
+    private final AtomicInteger flushRequests = new AtomicInteger();
+    private final Semaphore inFlight;
+    private final Object idle = new Object();
+    private final Object space = new Object(); // Producers blocked for room wait on this
+    private volatile int blockedProducers = 0;
+    private final ConcurrentHashMap<String, NamespaceCounters> namespaces = new ConcurrentHashMap<String, NamespaceCounters>();
+    private final Thread flusher;
+    private volatile int batchSize;
+    private volatile boolean closed = false;
+    private Entry carried = null; // Taken from the queue but too large for the previous batch. Flusher thread only
+    private double averageLatencyMs = 0; // Guarded by this
+
+    private final AtomicLong added = new AtomicLong();
+    private final AtomicLong sent = new AtomicLong();
+    private final AtomicLong failed = new AtomicLong();
+    private final AtomicLong batches = new AtomicLong();
+    private final AtomicLong failedBatches = new AtomicLong();
+    private final AtomicLong dropped = new AtomicLong();
+    private final AtomicLong delayed = new AtomicLong();
+
+    public PlayFabEventPipeline() {
+        this(new Settings());
+    }
+
+    public PlayFabEventPipeline(Settings settings) {
+        telemetry = settings.Telemetry;
+        customTags = settings.CustomTags;
+        maxLatencyNanos = TimeUnit.MILLISECONDS.toNanos(Math.max(1, settings.MaxLatencyMilliseconds));
+        maxBatchSize = Math.max(1, Math.min(MAX_EVENTS_PER_REQUEST, settings.MaxBatchSize));
+        minBatchSize = Math.max(1, Math.min(maxBatchSize, settings.MinBatchSize));
+        maxBatchBytes = settings.MaxBatchBytes;
+        targetLatencyMs = settings.TargetRequestLatencyMilliseconds;
+        maxConcurrentBatches = Math.max(1, settings.MaxConcurrentBatches);
+        batchHandler = settings.BatchHandler;
+        maxPending = Math.max(0, settings.MaxPendingEvents);
+        backpressure = settings.Backpressure != null ? settings.Backpressure : Backpressure.DropOldest;
+        blockTimeoutNanos = TimeUnit.MILLISECONDS.toNanos(Math.max(0, settings.BlockTimeoutMilliseconds));
+        sampleAbove = (int) (maxPending * Math.max(0, Math.min(1, settings.SampleAboveFraction)));
+        defaultSampleRate = settings.DefaultSampleRate;
+        sampleRates = settings.SampleRates != null ? new HashMap<String, Double>(settings.SampleRates) : Collections.<String, Double>emptyMap();
+        batchSize = maxBatchSize;
+        inFlight = new Semaphore(maxConcurrentBatches);
+
+        flusher = PlayFabExecutors.newDaemonThreadFactory("PlayFab-events-").newThread(new Runnable() {
+            public void run() {
+                runFlusher();
+            }
+        });
+        flusher.start();
+    }
+
+    /**
+     * Queues an event for the next batch. Only blocks under Backpressure.Block with a full queue
+     * @return false if the event was not queued: the pipeline is closed, or the backpressure policy dropped it
+     */
+    public boolean add(EventContents event) {
+        return enqueue(event, null);
+    }
+
+    /**
+     * Queues an event for the next batch, like add()
+     * @return a future for the id the service assigns the event. It completes with an error if the batch fails, or at once
+     * if the pipeline is closed or the backpressure policy drops the event
+     */
+    public PlayFabFuture<PlayFabResult<String>> submit(EventContents event) {
+        PlayFabFuture<PlayFabResult<String>> result = PlayFabFuture.incomplete();
+        if (!enqueue(event, result))
+            result.complete(notSent(closed ? "The event pipeline is closed" : "Dropped by the event pipeline's backpressure policy"));
+        return result;
+    }
+
+    private boolean enqueue(EventContents event, PlayFabFuture<PlayFabResult<String>> result) {
+        if (event == null)
+            throw new NullPointerException("event");
+        if (closed)
+            return false;
+        if (maxPending > 0 && !makeRoom(event))
+            return false;
+        queue.offer(new Entry(event, System.nanoTime(), maxBatchBytes > 0 ? estimate(event) : 0, result));
+        added.incrementAndGet();
+        if (pending.incrementAndGet() == batchSize)
+            LockSupport.unpark(flusher);
+        return true;
+    }
+
+    private static PlayFabResult<String> notSent(String reason) {
+        PlayFabResult<String> result = new PlayFabResult<String>();
+        result.Error = PlayFabHTTP.GeneratePfError(-1, PlayFabErrorCode.ServiceUnavailable, reason, null, null);
+        return result;
+    }
+
+    /**
+     * Sends every queued event now, without waiting for full batches, and waits for those batches to complete
+     * @param timeoutMilliseconds Longest to wait. 0 waits as long as it takes
+     * @return true if everything queued was sent, false if the timeout expired first
+     */
+    public boolean flush(long timeoutMilliseconds) throws InterruptedException {
+        long deadline = timeoutMilliseconds > 0 ? System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(timeoutMilliseconds) : 0;
+        flushRequests.incrementAndGet();
+        try {
+            LockSupport.unpark(flusher);
+            synchronized (idle) {
+                while (!isIdle()) {
+                    if (deadline == 0) {
+                        idle.wait(100);
+                    } else {
+                        long remaining = TimeUnit.NANOSECONDS.toMillis(deadline - System.nanoTime());
+                        if (remaining <= 0)
+                            return false;
+                        idle.wait(Math.min(remaining, 100));
+                    }
+                }
+            }
+            return true;
+        } finally {
+            flushRequests.decrementAndGet();
+        }
+    }
+
+    /**
+     * Stops accepting events, sends everything queued, and stops the background thread
+     */
+    public void close() throws IOException {
+        closed = true;
+        synchronized (space) {
+            space.notifyAll();
+        }
+        try {
+            flush(0);
+            LockSupport.unpark(flusher);
+            flusher.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Interrupted while flushing events");
+        }
+    }
+
+    /**
+     * @return dropped and delayed counts for each EventNamespace that has had any. Events with no namespace are under ""
+     */
+    public Map<String, NamespaceStats> getNamespaceStats() {
+        Map<String, NamespaceStats> snapshot = new HashMap<String, NamespaceStats>();
+        for (Map.Entry<String, NamespaceCounters> entry : namespaces.entrySet()) {
+            NamespaceStats stats = new NamespaceStats();
+            stats.dropped = entry.getValue().dropped.get();
+            stats.delayed = entry.getValue().delayed.get();
+            snapshot.put(entry.getKey(), stats);
+        }
+        return snapshot;
+    }
+
+    public Stats getStats() {
+        Stats stats = new Stats();
+        stats.added = added.get();
+        stats.sent = sent.get();
+        stats.failed = failed.get();
+        stats.batches = batches.get();
+        stats.failedBatches = failedBatches.get();
+        stats.pending = pending.get();
+        stats.inFlightBatches = maxConcurrentBatches - inFlight.availablePermits();
+        stats.batchSize = batchSize;
+        stats.dropped = dropped.get();
+        stats.delayed = delayed.get();
+        synchronized (this) {
+            stats.averageRequestMilliseconds = averageLatencyMs;
+        }
+        return stats;
+    }
+
+    // Applies the backpressure policy. Returns false if the new event is to be dropped. Concurrent producers can each see
+    // the last free slot, so the queue may briefly exceed its bound by the number of producers
+    private boolean makeRoom(EventContents event) {
+        int waiting = pending.get();
+        if (backpressure == Backpressure.SampleByNamespace && waiting >= sampleAbove && waiting < maxPending) {
+            Double rate = sampleRates.get(event.EventNamespace);
+            if (ThreadLocalRandom.current().nextDouble() >= (rate != null ? rate : defaultSampleRate)) {
+                countDropped(event);
+                return false;
+            }
+            return true;
+        }
+        if (waiting < maxPending)
+            return true;
+
+        switch (backpressure) {
+            case DropOldest:
+                Entry oldest = queue.poll();
+                if (oldest != null) {
+                    pending.decrementAndGet();
+                    countDropped(oldest.event);
+                    if (oldest.result != null)
+                        oldest.result.complete(notSent("Dropped by the event pipeline's backpressure policy"));
+                }
+                return true;
+            case Block:
+                counters(event).delayed.incrementAndGet();
+                delayed.incrementAndGet();
+                if (awaitRoom())
+                    return true;
+                countDropped(event);
+                return false;
+            default:
+                countDropped(event);
+                return false;
+        }
+    }
+
+    private boolean awaitRoom() {
+        long deadline = System.nanoTime() + blockTimeoutNanos;
+        synchronized (space) {
+            blockedProducers++;
+            try {
+                LockSupport.unpark(flusher); // A full queue is always worth sending
+                while (pending.get() >= maxPending) {
+                    if (closed)
+                        return false;
+                    long remaining = deadline - System.nanoTime();
+                    if (remaining <= 0)
+                        return false;
+                    space.wait(TimeUnit.NANOSECONDS.toMillis(remaining) + 1);
+                }
+                return true;
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return false;
+            } finally {
+                blockedProducers--;
+            }
+        }
+    }
+
+    private void countDropped(EventContents event) {
+        counters(event).dropped.incrementAndGet();
+        dropped.incrementAndGet();
+    }
+
+    private NamespaceCounters counters(EventContents event) {
+        String namespace = event.EventNamespace != null ? event.EventNamespace : "";
+        NamespaceCounters counters = namespaces.get(namespace);
+        if (counters == null) {
+            counters = new NamespaceCounters();
+            NamespaceCounters existing = namespaces.putIfAbsent(namespace, counters);
+            if (existing != null)
+                counters = existing;
+        }
+        return counters;
+    }
+
+    private boolean isIdle() {
+        return pending.get() == 0 && inFlight.availablePermits() == maxConcurrentBatches;
+    }
+
+    private void runFlusher() {
+        while (true) {
+            int waiting = pending.get();
+            if (waiting == 0) {
+                if (closed)
+                    return;
+                LockSupport.parkNanos(this, maxLatencyNanos);
+                continue;
+            }
+
+            Entry oldest = carried != null ? carried : queue.peek();
+            long untilDue = oldest == null ? 0 : oldest.addedNanos + maxLatencyNanos - System.nanoTime();
+            if (waiting < batchSize && untilDue > 0 && flushRequests.get() == 0 && !closed) {
+                LockSupport.parkNanos(this, untilDue);
+                continue;
+            }
+
+            inFlight.acquireUninterruptibly();
+            if (!sendBatch())
+                inFlight.release();
+        }
+    }
+
+    // Takes the next batch off the queue and starts sending it. Returns false if there was nothing to send
+    private boolean sendBatch() {
+        int limit = batchSize;
+        final List<EventContents> events = new ArrayList<EventContents>(limit);
+        List<PlayFabFuture<PlayFabResult<String>>> results = null; // Only allocated when the batch has submitted events
+        long bytes = 0;
+        while (events.size() < limit) {
+            Entry entry = carried;
+            carried = null;
+            if (entry == null)
+                entry = queue.poll();
+            if (entry == null)
+                break;
+
+            if (maxBatchBytes > 0) {
+                if (!events.isEmpty() && bytes + entry.bytes > maxBatchBytes) {
+                    carried = entry;
+                    break;
+                }
+                bytes += entry.bytes;
+            }
+            pending.decrementAndGet();
+            if (entry.result != null) {
+                if (results == null)
+                    results = new ArrayList<PlayFabFuture<PlayFabResult<String>>>(Collections.<PlayFabFuture<PlayFabResult<String>>>nCopies(events.size(), null));
+                results.add(entry.result);
+            } else if (results != null) {
+                results.add(null);
+            }
+            events.add(entry.event);
+        }
+        if (events.isEmpty())
+            return false;
+        if (blockedProducers > 0) {
+            synchronized (space) {
+                space.notifyAll();
+            }
+        }
+
+        WriteEventsRequest request = new WriteEventsRequest();
+        request.CustomTags = customTags;
+        request.Events = new ArrayList<EventContents>(events);
+        final long started = System.nanoTime();
+        final List<PlayFabFuture<PlayFabResult<String>>> eventResults = results;
+        PlayFabFuture<PlayFabResult<WriteEventsResponse>> call = telemetry
+            ? PlayFabEventsAPI.async().WriteTelemetryEvents(request)
+            : PlayFabEventsAPI.async().WriteEvents(request);
+        call.addCallback(new PlayFabFuture.Callback<PlayFabResult<WriteEventsResponse>>() {
+            public void onComplete(PlayFabResult<WriteEventsResponse> result, Throwable error) {
+                onBatchComplete(events, eventResults, result, error, System.nanoTime() - started);
+            }
+        });
+        return true;
+    }
+
+    private void onBatchComplete(List<EventContents> events, List<PlayFabFuture<PlayFabResult<String>>> eventResults,
+        PlayFabResult<WriteEventsResponse> result, Throwable error, long elapsedNanos) {
+        batches.incrementAndGet();
+        if (error != null || result == null || result.Error != null) {
+            failedBatches.incrementAndGet();
+            failed.addAndGet(events.size());
+        } else {
+            sent.addAndGet(events.size());
+        }
+        adaptBatchSize(elapsedNanos / 1e6);
+        if (eventResults != null)
+            completeEvents(eventResults, result, error);
+
+        // Before the batch stops counting as in flight, so the handler has run when flush() returns
+        if (batchHandler != null) {
+            try {
+                batchHandler.onBatchComplete(events, result, error);
+            } catch (Throwable ignored) {
+                // A failing handler must not stop the pipeline
+            }
+        }
+        inFlight.release();
+        LockSupport.unpark(flusher);
+        synchronized (idle) {
+            idle.notifyAll();
+        }
+    }
+
+    // Completes each submitted event's future with its assigned id, which the service lists in event order
+    private static void completeEvents(List<PlayFabFuture<PlayFabResult<String>>> eventResults, PlayFabResult<WriteEventsResponse> result, Throwable error) {
+        List<String> ids = result != null && result.Result != null ? result.Result.AssignedEventIds : null;
+        for (int i = 0; i < eventResults.size(); i++) {
+            PlayFabFuture<PlayFabResult<String>> eventResult = eventResults.get(i);
+            if (eventResult == null)
+                continue;
+            if (error != null) {
+                eventResult.completeExceptionally(error);
+                continue;
+            }
+            PlayFabResult<String> value = new PlayFabResult<String>();
+            if (result == null || result.Error != null)
+                value.Error = result != null ? result.Error : notSent("No result for the batch").Error;
+            else
+                value.Result = ids != null && i < ids.size() ? ids.get(i) : null;
+            eventResult.complete(value);
+        }
+    }
+
+    // Multiplicative decrease while requests are slow, additive increase while they are fast and events are queuing
+    private synchronized void adaptBatchSize(double latencyMs) {
+        averageLatencyMs = averageLatencyMs == 0 ? latencyMs : averageLatencyMs * 0.8 + latencyMs * 0.2;
+        int size = batchSize;
+        if (averageLatencyMs > targetLatencyMs)
+            size = Math.max(minBatchSize, size * 3 / 4);
+        else if (pending.get() >= size)
+            size = Math.min(maxBatchSize, size + Math.max(1, size / 8));
+        batchSize = size;
+    }
+
+    // The serialized size of an event, from its fields rather than by serializing it. The event is serialized once, when
+    // its batch is sent; only payloads that are not strings, numbers, booleans, dates, maps, collections or arrays are
+    // serialized here as well, to measure them
+    private static long estimate(EventContents event) {
+        long size = 2;
+        size += estimateField("CustomTags", event.CustomTags);
+        if (event.Entity != null)
+            size += "\"Entity\":{},".length() + estimateField("Id", event.Entity.Id) + estimateField("Type", event.Entity.Type);
+        size += estimateField("EventNamespace", event.EventNamespace);
+        size += estimateField("Name", event.Name);
+        size += estimateField("OriginalId", event.OriginalId);
+        size += estimateField("OriginalTimestamp", event.OriginalTimestamp);
+        size += estimateField("Payload", event.Payload);
+        size += estimateField("PayloadJSON", event.PayloadJSON);
+        return size;
+    }
+
+    // "name":value, for a field that is set. Null fields are left out of the request
+    private static long estimateField(String name, Object value) {
+        return value == null ? 0 : name.length() + 4 + estimateValue(value);
+    }
+
+    private static long estimateValue(Object value) {
+        if (value == null)
+            return 4;
+        if (value instanceof CharSequence || value instanceof Character)
+            return estimateString(value.toString());
+        if (value instanceof Number || value instanceof Boolean)
+            return value.toString().length();
+        if (value instanceof Date)
+            return PlayFabDateTypeAdapter.format((Date) value).length() + 2;
+        if (value instanceof Map) {
+            long size = 2;
+            for (Map.Entry<?, ?> entry : ((Map<?, ?>) value).entrySet())
+                size += estimateString(String.valueOf(entry.getKey())) + 2 + estimateValue(entry.getValue());
+            return size;
+        }
+        if (value instanceof Collection) {
+            long size = 2;
+            for (Object element : (Collection<?>) value)
+                size += estimateValue(element) + 1;
+            return size;
+        }
+        if (value instanceof Object[]) {
+            long size = 2;
+            for (Object element : (Object[]) value)
+                size += estimateValue(element) + 1;
+            return size;
+        }
+        return measure(value);
+    }
+
+    // A quoted string as Gson writes it: control characters, quotes and HTML characters escaped, the rest as UTF-8
+    private static long estimateString(String value) {
+        long size = 2;
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c < 0x20 || c == '"' || c == '\\' || c == '<' || c == '>' || c == '&' || c == '=' || c == '\'' || c == '\u2028' || c == '\u2029')
+                size += 6;
+            else if (c < 0x80)
+                size += 1;
+            else if (c < 0x800 || Character.isSurrogate(c))
+                size += 2;
+            else
+                size += 3;
+        }
+        return size;
+    }
+
+    private static long measure(Object value) {
+        final long[] count = new long[1];
+        OutputStream counter = new OutputStream() {
+            public void write(int b) {
+                count[0]++;
+            }
+
+            public void write(byte[] b, int off, int len) {
+                count[0] += len;
+            }
+        };
+        try {
+            PlayFabJson.toJson(value, new PlayFabUtf8Writer(counter));
+        } catch (IOException e) {
+            throw new IllegalStateException("Unable to measure an event", e);
+        }
+        return count[0];
+    }
+}
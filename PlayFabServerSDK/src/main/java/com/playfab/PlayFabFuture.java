@@ -0,0 +1,224 @@
+package com.playfab;
+
+import java.util.*;
+import java.util.concurrent.*;
+
+import com.playfab.internal.PlayFabAbortScope;
+import com.playfab.internal.PlayFabExecutors;
+
+/**
+ * The pending result of a call made through an API's async() surface, such as PlayFabServerAPI.async().GetUserData(request).
+ *
+ * The call is already running on PlayFabSettings.AsyncExecutor when the future is returned, so callers never have to run
+ * it themselves. Futures can be chained with then() and thenCompose() and observed with addCallback(). cancel(true) closes
+ * the connection of a call that is still in flight, and cancels every future it was chained from.
+ * Callbacks and transforms run on the thread that completes the future.
+ */
+public class PlayFabFuture<T> extends FutureTask<T> {
+    /** Observes the outcome of a future */
+    public static interface Callback<T> {
+        /**
+         * @param result The value the future completed with, or null if it failed
+         * @param error Why the future failed or was cancelled, or null if it succeeded
+         */
+        public void onComplete(T result, Throwable error);
+    }
+
+    /** Maps the value of one future to the value of the next */
+    public static interface Transform<T, U> {
+        public U apply(T value) throws Exception;
+    }
+
+    /** Maps the value of one future to another asynchronous call */
+    public static interface AsyncTransform<T, U> {
+        public PlayFabFuture<U> apply(T value) throws Exception;
+    }
+
+    private final PlayFabAbortScope abortScope;
+    private final List<Runnable> listeners = new ArrayList<Runnable>(); // Guarded by itself, drained once complete
+    private boolean complete = false; // Guarded by listeners
+    private volatile Future<?> upstream = null;
+
+    private PlayFabFuture(final Callable<T> callable, final PlayFabAbortScope abortScope) {
+        super(new Callable<T>() {
+            public T call() throws Exception {
+                abortScope.enter();
+                try {
+                    return callable.call();
+                } finally {
+                    abortScope.exit();
+                }
+            }
+        });
+        this.abortScope = abortScope;
+    }
+
+    /**
+     * Starts a call on PlayFabSettings.AsyncExecutor, or the SDK-managed pool if none is set
+     */
+    public static <T> PlayFabFuture<T> start(Callable<T> callable) {
+        return start(callable, PlayFabExecutors.getAsyncExecutor());
+    }
+
+    /**
+     * Starts a call on the given executor
+     */
+    public static <T> PlayFabFuture<T> start(Callable<T> callable, Executor executor) {
+        PlayFabFuture<T> future = new PlayFabFuture<T>(callable, new PlayFabAbortScope());
+        try {
+            executor.execute(future);
+        } catch (RejectedExecutionException e) {
+            future.setException(e);
+        }
+        return future;
+    }
+
+    /**
+     * @return a future that has already completed with the given value
+     */
+    public static <T> PlayFabFuture<T> completed(T value) {
+        PlayFabFuture<T> future = pending(null);
+        future.set(value);
+        return future;
+    }
+
+    /**
+     * @return a future that its creator completes, for results that arrive some other way than a call, such as in a batch
+     */
+    static <T> PlayFabFuture<T> incomplete() {
+        return pending(null);
+    }
+
+    void complete(T value) {
+        set(value);
+    }
+
+    void completeExceptionally(Throwable error) {
+        setException(error);
+    }
+
+    @Override
+    public boolean cancel(boolean mayInterruptIfRunning) {
+        // Cancelled before the connection is closed, so the call failing on it cannot complete this future first, and the
+        // connection closed before the interrupt, which could otherwise let the call unregister it and leave it open
+        boolean cancelled = super.cancel(false);
+        if (cancelled) {
+            if (mayInterruptIfRunning) {
+                abortScope.abort();
+                abortScope.interrupt();
+            }
+            Future<?> source = upstream;
+            if (source != null)
+                source.cancel(mayInterruptIfRunning);
+        }
+        return cancelled;
+    }
+
+    @Override
+    protected void done() {
+        List<Runnable> toRun;
+        synchronized (listeners) {
+            complete = true;
+            toRun = new ArrayList<Runnable>(listeners);
+            listeners.clear();
+        }
+        for (Runnable listener : toRun)
+            listener.run();
+    }
+
+    /**
+     * Runs the callback once this future completes, or right away if it already has
+     * @return this future
+     */
+    public PlayFabFuture<T> addCallback(final Callback<? super T> callback) {
+        Runnable listener = new Runnable() {
+            public void run() {
+                T value = null;
+                Throwable error = null;
+                try {
+                    value = get();
+                } catch (ExecutionException e) {
+                    error = e.getCause();
+                } catch (Throwable e) {
+                    error = e;
+                }
+                callback.onComplete(value, error);
+            }
+        };
+
+        synchronized (listeners) {
+            if (!complete) {
+                listeners.add(listener);
+                return this;
+            }
+        }
+        listener.run();
+        return this;
+    }
+
+    /**
+     * @return a future for the value of this one, passed through the transform
+     */
+    public <U> PlayFabFuture<U> then(final Transform<? super T, ? extends U> transform) {
+        final PlayFabFuture<U> next = pending(this);
+        addCallback(new Callback<T>() {
+            public void onComplete(T value, Throwable error) {
+                if (next.failWith(error))
+                    return;
+                try {
+                    next.set(transform.apply(value));
+                } catch (Throwable e) {
+                    next.setException(e);
+                }
+            }
+        });
+        return next;
+    }
+
+    /**
+     * @return a future for the call started by the transform once this one completes
+     */
+    public <U> PlayFabFuture<U> thenCompose(final AsyncTransform<? super T, U> transform) {
+        final PlayFabFuture<U> next = pending(this);
+        addCallback(new Callback<T>() {
+            public void onComplete(T value, Throwable error) {
+                if (next.failWith(error))
+                    return;
+                try {
+                    PlayFabFuture<U> inner = transform.apply(value);
+                    next.upstream = inner;
+                    inner.addCallback(new Callback<U>() {
+                        public void onComplete(U innerValue, Throwable innerError) {
+                            if (!next.failWith(innerError))
+                                next.set(innerValue);
+                        }
+                    });
+                } catch (Throwable e) {
+                    next.setException(e);
+                }
+            }
+        });
+        return next;
+    }
+
+    private static <T> PlayFabFuture<T> pending(Future<?> upstream) {
+        PlayFabFuture<T> future = new PlayFabFuture<T>(new Callable<T>() {
+            public T call() throws Exception {
+                throw new IllegalStateException("Chained futures are completed by their source");
+            }
+        }, new PlayFabAbortScope());
+        future.upstream = upstream;
+        return future;
+    }
+
+    // Propagates an upstream failure, returning false if there was none
+    private boolean failWith(Throwable error) {
+        if (error == null)
+            return false;
+        if (error instanceof CancellationException)
+            super.cancel(false);
+        else
+            setException(error);
+        return true;
+    }
+}
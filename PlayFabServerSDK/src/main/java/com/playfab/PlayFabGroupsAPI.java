@@ -6,8 +6,6 @@ import com.playfab.PlayFabErrors.*;
 import com.playfab.PlayFabSettings;
 import java.util.concurrent.*;
 import java.util.*;
-import com.google.gson.*;
-import com.google.gson.reflect.*;
 
     /**
      * The Groups API is designed for any permanent or semi-permanent collections of Entities (players, or non-players). If you
@@ -15,7 +13,7 @@ import com.google.gson.reflect.*;
      * parties, or any other persistent collection of entities.
      */
 public class PlayFabGroupsAPI {
-    private static Gson gson = new GsonBuilder().setDateFormat("yyyy-MM-dd'T'HH:mm:ss.SSS'Z'").create();
+    private static final Async async = new Async();
 
     /**
      * Accepts an outstanding invitation to to join a group
@@ -26,7 +24,7 @@ public class PlayFabGroupsAPI {
     public static FutureTask<PlayFabResult<EmptyResponse>> AcceptGroupApplicationAsync(final AcceptGroupApplicationRequest request) {
         return new FutureTask(new Callable<PlayFabResult<EmptyResponse>>() {
             public PlayFabResult<EmptyResponse> call() throws Exception {
-                return privateAcceptGroupApplicationAsync(request);
+                return privateAcceptGroupApplicationAsync(null, request);
             }
         });
     }
@@ -40,7 +38,7 @@ public class PlayFabGroupsAPI {
     public static PlayFabResult<EmptyResponse> AcceptGroupApplication(final AcceptGroupApplicationRequest request) {
         FutureTask<PlayFabResult<EmptyResponse>> task = new FutureTask(new Callable<PlayFabResult<EmptyResponse>>() {
             public PlayFabResult<EmptyResponse> call() throws Exception {
-                return privateAcceptGroupApplicationAsync(request);
+                return privateAcceptGroupApplicationAsync(null, request);
             }
         });
         try {
@@ -55,10 +53,12 @@ public class PlayFabGroupsAPI {
 
     /** Accepts an outstanding invitation to to join a group */
     @SuppressWarnings("unchecked")
-    private static PlayFabResult<EmptyResponse> privateAcceptGroupApplicationAsync(final AcceptGroupApplicationRequest request) throws Exception {
-        if (PlayFabSettings.EntityToken == null) throw new Exception ("Must call GetEntityToken before you can use the Entity API");
+    static PlayFabResult<EmptyResponse> privateAcceptGroupApplicationAsync(final PlayFabInstanceAPI instance, final AcceptGroupApplicationRequest request) throws Exception {
+        final PlayFabApiContext context = PlayFabInstanceAPI.contextOf(instance);
+        final String entityToken = context.getEntityToken();
+        if (entityToken == null) throw new Exception ("Must call GetEntityToken before you can use the Entity API");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Group/AcceptGroupApplication"), request, "X-EntityToken", PlayFabSettings.EntityToken);
+        FutureTask<Object> task = PlayFabHTTP.doPost(context.getURL("/Group/AcceptGroupApplication"), request, "X-EntityToken", entityToken, EmptyResponse.class);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -69,9 +69,7 @@ public class PlayFabGroupsAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
-
-        PlayFabJsonSuccess<EmptyResponse> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<EmptyResponse>>(){}.getType());
+        PlayFabJsonSuccess<EmptyResponse> resultData = (PlayFabJsonSuccess<EmptyResponse>) httpResult;
         EmptyResponse result = resultData.data;
 
         PlayFabResult<EmptyResponse> pfResult = new PlayFabResult<EmptyResponse>();
@@ -88,7 +86,7 @@ public class PlayFabGroupsAPI {
     public static FutureTask<PlayFabResult<EmptyResponse>> AcceptGroupInvitationAsync(final AcceptGroupInvitationRequest request) {
         return new FutureTask(new Callable<PlayFabResult<EmptyResponse>>() {
             public PlayFabResult<EmptyResponse> call() throws Exception {
-                return privateAcceptGroupInvitationAsync(request);
+                return privateAcceptGroupInvitationAsync(null, request);
             }
         });
     }
@@ -102,7 +100,7 @@ public class PlayFabGroupsAPI {
     public static PlayFabResult<EmptyResponse> AcceptGroupInvitation(final AcceptGroupInvitationRequest request) {
         FutureTask<PlayFabResult<EmptyResponse>> task = new FutureTask(new Callable<PlayFabResult<EmptyResponse>>() {
             public PlayFabResult<EmptyResponse> call() throws Exception {
-                return privateAcceptGroupInvitationAsync(request);
+                return privateAcceptGroupInvitationAsync(null, request);
             }
         });
         try {
@@ -117,10 +115,12 @@ public class PlayFabGroupsAPI {
 
     /** Accepts an invitation to join a group */
     @SuppressWarnings("unchecked")
-    private static PlayFabResult<EmptyResponse> privateAcceptGroupInvitationAsync(final AcceptGroupInvitationRequest request) throws Exception {
-        if (PlayFabSettings.EntityToken == null) throw new Exception ("Must call GetEntityToken before you can use the Entity API");
+    static PlayFabResult<EmptyResponse> privateAcceptGroupInvitationAsync(final PlayFabInstanceAPI instance, final AcceptGroupInvitationRequest request) throws Exception {
+        final PlayFabApiContext context = PlayFabInstanceAPI.contextOf(instance);
+        final String entityToken = context.getEntityToken();
+        if (entityToken == null) throw new Exception ("Must call GetEntityToken before you can use the Entity API");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Group/AcceptGroupInvitation"), request, "X-EntityToken", PlayFabSettings.EntityToken);
+        FutureTask<Object> task = PlayFabHTTP.doPost(context.getURL("/Group/AcceptGroupInvitation"), request, "X-EntityToken", entityToken, EmptyResponse.class);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -131,9 +131,7 @@ public class PlayFabGroupsAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
-
-        PlayFabJsonSuccess<EmptyResponse> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<EmptyResponse>>(){}.getType());
+        PlayFabJsonSuccess<EmptyResponse> resultData = (PlayFabJsonSuccess<EmptyResponse>) httpResult;
         EmptyResponse result = resultData.data;
 
         PlayFabResult<EmptyResponse> pfResult = new PlayFabResult<EmptyResponse>();
@@ -150,7 +148,7 @@ public class PlayFabGroupsAPI {
     public static FutureTask<PlayFabResult<EmptyResponse>> AddMembersAsync(final AddMembersRequest request) {
         return new FutureTask(new Callable<PlayFabResult<EmptyResponse>>() {
             public PlayFabResult<EmptyResponse> call() throws Exception {
-                return privateAddMembersAsync(request);
+                return privateAddMembersAsync(null, request);
             }
         });
     }
@@ -164,7 +162,7 @@ public class PlayFabGroupsAPI {
     public static PlayFabResult<EmptyResponse> AddMembers(final AddMembersRequest request) {
         FutureTask<PlayFabResult<EmptyResponse>> task = new FutureTask(new Callable<PlayFabResult<EmptyResponse>>() {
             public PlayFabResult<EmptyResponse> call() throws Exception {
-                return privateAddMembersAsync(request);
+                return privateAddMembersAsync(null, request);
             }
         });
         try {
@@ -179,10 +177,12 @@ public class PlayFabGroupsAPI {
 
     /** Adds members to a group or role. */
     @SuppressWarnings("unchecked")
-    private static PlayFabResult<EmptyResponse> privateAddMembersAsync(final AddMembersRequest request) throws Exception {
-        if (PlayFabSettings.EntityToken == null) throw new Exception ("Must call GetEntityToken before you can use the Entity API");
+    static PlayFabResult<EmptyResponse> privateAddMembersAsync(final PlayFabInstanceAPI instance, final AddMembersRequest request) throws Exception {
+        final PlayFabApiContext context = PlayFabInstanceAPI.contextOf(instance);
+        final String entityToken = context.getEntityToken();
+        if (entityToken == null) throw new Exception ("Must call GetEntityToken before you can use the Entity API");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Group/AddMembers"), request, "X-EntityToken", PlayFabSettings.EntityToken);
+        FutureTask<Object> task = PlayFabHTTP.doPost(context.getURL("/Group/AddMembers"), request, "X-EntityToken", entityToken, EmptyResponse.class);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -193,9 +193,7 @@ public class PlayFabGroupsAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
-
-        PlayFabJsonSuccess<EmptyResponse> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<EmptyResponse>>(){}.getType());
+        PlayFabJsonSuccess<EmptyResponse> resultData = (PlayFabJsonSuccess<EmptyResponse>) httpResult;
         EmptyResponse result = resultData.data;
 
         PlayFabResult<EmptyResponse> pfResult = new PlayFabResult<EmptyResponse>();
@@ -212,7 +210,7 @@ public class PlayFabGroupsAPI {
     public static FutureTask<PlayFabResult<ApplyToGroupResponse>> ApplyToGroupAsync(final ApplyToGroupRequest request) {
         return new FutureTask(new Callable<PlayFabResult<ApplyToGroupResponse>>() {
             public PlayFabResult<ApplyToGroupResponse> call() throws Exception {
-                return privateApplyToGroupAsync(request);
+                return privateApplyToGroupAsync(null, request);
             }
         });
     }
@@ -226,7 +224,7 @@ public class PlayFabGroupsAPI {
     public static PlayFabResult<ApplyToGroupResponse> ApplyToGroup(final ApplyToGroupRequest request) {
         FutureTask<PlayFabResult<ApplyToGroupResponse>> task = new FutureTask(new Callable<PlayFabResult<ApplyToGroupResponse>>() {
             public PlayFabResult<ApplyToGroupResponse> call() throws Exception {
-                return privateApplyToGroupAsync(request);
+                return privateApplyToGroupAsync(null, request);
             }
         });
         try {
@@ -241,10 +239,12 @@ public class PlayFabGroupsAPI {
 
     /** Applies to join a group */
     @SuppressWarnings("unchecked")
-    private static PlayFabResult<ApplyToGroupResponse> privateApplyToGroupAsync(final ApplyToGroupRequest request) throws Exception {
-        if (PlayFabSettings.EntityToken == null) throw new Exception ("Must call GetEntityToken before you can use the Entity API");
+    static PlayFabResult<ApplyToGroupResponse> privateApplyToGroupAsync(final PlayFabInstanceAPI instance, final ApplyToGroupRequest request) throws Exception {
+        final PlayFabApiContext context = PlayFabInstanceAPI.contextOf(instance);
+        final String entityToken = context.getEntityToken();
+        if (entityToken == null) throw new Exception ("Must call GetEntityToken before you can use the Entity API");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Group/ApplyToGroup"), request, "X-EntityToken", PlayFabSettings.EntityToken);
+        FutureTask<Object> task = PlayFabHTTP.doPost(context.getURL("/Group/ApplyToGroup"), request, "X-EntityToken", entityToken, ApplyToGroupResponse.class);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -255,9 +255,7 @@ public class PlayFabGroupsAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
-
-        PlayFabJsonSuccess<ApplyToGroupResponse> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<ApplyToGroupResponse>>(){}.getType());
+        PlayFabJsonSuccess<ApplyToGroupResponse> resultData = (PlayFabJsonSuccess<ApplyToGroupResponse>) httpResult;
         ApplyToGroupResponse result = resultData.data;
 
         PlayFabResult<ApplyToGroupResponse> pfResult = new PlayFabResult<ApplyToGroupResponse>();
@@ -274,7 +272,7 @@ public class PlayFabGroupsAPI {
     public static FutureTask<PlayFabResult<EmptyResponse>> BlockEntityAsync(final BlockEntityRequest request) {
         return new FutureTask(new Callable<PlayFabResult<EmptyResponse>>() {
             public PlayFabResult<EmptyResponse> call() throws Exception {
-                return privateBlockEntityAsync(request);
+                return privateBlockEntityAsync(null, request);
             }
         });
     }
@@ -288,7 +286,7 @@ public class PlayFabGroupsAPI {
     public static PlayFabResult<EmptyResponse> BlockEntity(final BlockEntityRequest request) {
         FutureTask<PlayFabResult<EmptyResponse>> task = new FutureTask(new Callable<PlayFabResult<EmptyResponse>>() {
             public PlayFabResult<EmptyResponse> call() throws Exception {
-                return privateBlockEntityAsync(request);
+                return privateBlockEntityAsync(null, request);
             }
         });
         try {
@@ -303,10 +301,12 @@ public class PlayFabGroupsAPI {
 
     /** Blocks a list of entities from joining a group. */
     @SuppressWarnings("unchecked")
-    private static PlayFabResult<EmptyResponse> privateBlockEntityAsync(final BlockEntityRequest request) throws Exception {
-        if (PlayFabSettings.EntityToken == null) throw new Exception ("Must call GetEntityToken before you can use the Entity API");
+    static PlayFabResult<EmptyResponse> privateBlockEntityAsync(final PlayFabInstanceAPI instance, final BlockEntityRequest request) throws Exception {
+        final PlayFabApiContext context = PlayFabInstanceAPI.contextOf(instance);
+        final String entityToken = context.getEntityToken();
+        if (entityToken == null) throw new Exception ("Must call GetEntityToken before you can use the Entity API");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Group/BlockEntity"), request, "X-EntityToken", PlayFabSettings.EntityToken);
+        FutureTask<Object> task = PlayFabHTTP.doPost(context.getURL("/Group/BlockEntity"), request, "X-EntityToken", entityToken, EmptyResponse.class);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -317,9 +317,7 @@ public class PlayFabGroupsAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
-
-        PlayFabJsonSuccess<EmptyResponse> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<EmptyResponse>>(){}.getType());
+        PlayFabJsonSuccess<EmptyResponse> resultData = (PlayFabJsonSuccess<EmptyResponse>) httpResult;
         EmptyResponse result = resultData.data;
 
         PlayFabResult<EmptyResponse> pfResult = new PlayFabResult<EmptyResponse>();
@@ -336,7 +334,7 @@ public class PlayFabGroupsAPI {
     public static FutureTask<PlayFabResult<EmptyResponse>> ChangeMemberRoleAsync(final ChangeMemberRoleRequest request) {
         return new FutureTask(new Callable<PlayFabResult<EmptyResponse>>() {
             public PlayFabResult<EmptyResponse> call() throws Exception {
-                return privateChangeMemberRoleAsync(request);
+                return privateChangeMemberRoleAsync(null, request);
             }
         });
     }
@@ -350,7 +348,7 @@ public class PlayFabGroupsAPI {
     public static PlayFabResult<EmptyResponse> ChangeMemberRole(final ChangeMemberRoleRequest request) {
         FutureTask<PlayFabResult<EmptyResponse>> task = new FutureTask(new Callable<PlayFabResult<EmptyResponse>>() {
             public PlayFabResult<EmptyResponse> call() throws Exception {
-                return privateChangeMemberRoleAsync(request);
+                return privateChangeMemberRoleAsync(null, request);
             }
         });
         try {
@@ -365,10 +363,12 @@ public class PlayFabGroupsAPI {
 
     /** Changes the role membership of a list of entities from one role to another. */
     @SuppressWarnings("unchecked")
-    private static PlayFabResult<EmptyResponse> privateChangeMemberRoleAsync(final ChangeMemberRoleRequest request) throws Exception {
-        if (PlayFabSettings.EntityToken == null) throw new Exception ("Must call GetEntityToken before you can use the Entity API");
+    static PlayFabResult<EmptyResponse> privateChangeMemberRoleAsync(final PlayFabInstanceAPI instance, final ChangeMemberRoleRequest request) throws Exception {
+        final PlayFabApiContext context = PlayFabInstanceAPI.contextOf(instance);
+        final String entityToken = context.getEntityToken();
+        if (entityToken == null) throw new Exception ("Must call GetEntityToken before you can use the Entity API");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Group/ChangeMemberRole"), request, "X-EntityToken", PlayFabSettings.EntityToken);
+        FutureTask<Object> task = PlayFabHTTP.doPost(context.getURL("/Group/ChangeMemberRole"), request, "X-EntityToken", entityToken, EmptyResponse.class);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -379,9 +379,7 @@ public class PlayFabGroupsAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
-
-        PlayFabJsonSuccess<EmptyResponse> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<EmptyResponse>>(){}.getType());
+        PlayFabJsonSuccess<EmptyResponse> resultData = (PlayFabJsonSuccess<EmptyResponse>) httpResult;
         EmptyResponse result = resultData.data;
 
         PlayFabResult<EmptyResponse> pfResult = new PlayFabResult<EmptyResponse>();
@@ -398,7 +396,7 @@ public class PlayFabGroupsAPI {
     public static FutureTask<PlayFabResult<CreateGroupResponse>> CreateGroupAsync(final CreateGroupRequest request) {
         return new FutureTask(new Callable<PlayFabResult<CreateGroupResponse>>() {
             public PlayFabResult<CreateGroupResponse> call() throws Exception {
-                return privateCreateGroupAsync(request);
+                return privateCreateGroupAsync(null, request);
             }
         });
     }
@@ -412,7 +410,7 @@ public class PlayFabGroupsAPI {
     public static PlayFabResult<CreateGroupResponse> CreateGroup(final CreateGroupRequest request) {
         FutureTask<PlayFabResult<CreateGroupResponse>> task = new FutureTask(new Callable<PlayFabResult<CreateGroupResponse>>() {
             public PlayFabResult<CreateGroupResponse> call() throws Exception {
-                return privateCreateGroupAsync(request);
+                return privateCreateGroupAsync(null, request);
             }
         });
         try {
@@ -427,10 +425,12 @@ public class PlayFabGroupsAPI {
 
     /** Creates a new group. */
     @SuppressWarnings("unchecked")
-    private static PlayFabResult<CreateGroupResponse> privateCreateGroupAsync(final CreateGroupRequest request) throws Exception {
-        if (PlayFabSettings.EntityToken == null) throw new Exception ("Must call GetEntityToken before you can use the Entity API");
+    static PlayFabResult<CreateGroupResponse> privateCreateGroupAsync(final PlayFabInstanceAPI instance, final CreateGroupRequest request) throws Exception {
+        final PlayFabApiContext context = PlayFabInstanceAPI.contextOf(instance);
+        final String entityToken = context.getEntityToken();
+        if (entityToken == null) throw new Exception ("Must call GetEntityToken before you can use the Entity API");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Group/CreateGroup"), request, "X-EntityToken", PlayFabSettings.EntityToken);
+        FutureTask<Object> task = PlayFabHTTP.doPost(context.getURL("/Group/CreateGroup"), request, "X-EntityToken", entityToken, CreateGroupResponse.class);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -441,9 +441,7 @@ public class PlayFabGroupsAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
-
-        PlayFabJsonSuccess<CreateGroupResponse> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<CreateGroupResponse>>(){}.getType());
+        PlayFabJsonSuccess<CreateGroupResponse> resultData = (PlayFabJsonSuccess<CreateGroupResponse>) httpResult;
         CreateGroupResponse result = resultData.data;
 
         PlayFabResult<CreateGroupResponse> pfResult = new PlayFabResult<CreateGroupResponse>();
@@ -460,7 +458,7 @@ public class PlayFabGroupsAPI {
     public static FutureTask<PlayFabResult<CreateGroupRoleResponse>> CreateRoleAsync(final CreateGroupRoleRequest request) {
         return new FutureTask(new Callable<PlayFabResult<CreateGroupRoleResponse>>() {
             public PlayFabResult<CreateGroupRoleResponse> call() throws Exception {
-                return privateCreateRoleAsync(request);
+                return privateCreateRoleAsync(null, request);
             }
         });
     }
@@ -474,7 +472,7 @@ public class PlayFabGroupsAPI {
     public static PlayFabResult<CreateGroupRoleResponse> CreateRole(final CreateGroupRoleRequest request) {
         FutureTask<PlayFabResult<CreateGroupRoleResponse>> task = new FutureTask(new Callable<PlayFabResult<CreateGroupRoleResponse>>() {
             public PlayFabResult<CreateGroupRoleResponse> call() throws Exception {
-                return privateCreateRoleAsync(request);
+                return privateCreateRoleAsync(null, request);
             }
         });
         try {
@@ -489,10 +487,12 @@ public class PlayFabGroupsAPI {
 
     /** Creates a new group role. */
     @SuppressWarnings("unchecked")
-    private static PlayFabResult<CreateGroupRoleResponse> privateCreateRoleAsync(final CreateGroupRoleRequest request) throws Exception {
-        if (PlayFabSettings.EntityToken == null) throw new Exception ("Must call GetEntityToken before you can use the Entity API");
+    static PlayFabResult<CreateGroupRoleResponse> privateCreateRoleAsync(final PlayFabInstanceAPI instance, final CreateGroupRoleRequest request) throws Exception {
+        final PlayFabApiContext context = PlayFabInstanceAPI.contextOf(instance);
+        final String entityToken = context.getEntityToken();
+        if (entityToken == null) throw new Exception ("Must call GetEntityToken before you can use the Entity API");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Group/CreateRole"), request, "X-EntityToken", PlayFabSettings.EntityToken);
+        FutureTask<Object> task = PlayFabHTTP.doPost(context.getURL("/Group/CreateRole"), request, "X-EntityToken", entityToken, CreateGroupRoleResponse.class);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -503,9 +503,7 @@ public class PlayFabGroupsAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
-
-        PlayFabJsonSuccess<CreateGroupRoleResponse> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<CreateGroupRoleResponse>>(){}.getType());
+        PlayFabJsonSuccess<CreateGroupRoleResponse> resultData = (PlayFabJsonSuccess<CreateGroupRoleResponse>) httpResult;
         CreateGroupRoleResponse result = resultData.data;
 
         PlayFabResult<CreateGroupRoleResponse> pfResult = new PlayFabResult<CreateGroupRoleResponse>();
@@ -522,7 +520,7 @@ public class PlayFabGroupsAPI {
     public static FutureTask<PlayFabResult<EmptyResponse>> DeleteGroupAsync(final DeleteGroupRequest request) {
         return new FutureTask(new Callable<PlayFabResult<EmptyResponse>>() {
             public PlayFabResult<EmptyResponse> call() throws Exception {
-                return privateDeleteGroupAsync(request);
+                return privateDeleteGroupAsync(null, request);
             }
         });
     }
@@ -536,7 +534,7 @@ public class PlayFabGroupsAPI {
     public static PlayFabResult<EmptyResponse> DeleteGroup(final DeleteGroupRequest request) {
         FutureTask<PlayFabResult<EmptyResponse>> task = new FutureTask(new Callable<PlayFabResult<EmptyResponse>>() {
             public PlayFabResult<EmptyResponse> call() throws Exception {
-                return privateDeleteGroupAsync(request);
+                return privateDeleteGroupAsync(null, request);
             }
         });
         try {
@@ -551,10 +549,12 @@ public class PlayFabGroupsAPI {
 
     /** Deletes a group and all roles, invitations, join requests, and blocks associated with it. */
     @SuppressWarnings("unchecked")
-    private static PlayFabResult<EmptyResponse> privateDeleteGroupAsync(final DeleteGroupRequest request) throws Exception {
-        if (PlayFabSettings.EntityToken == null) throw new Exception ("Must call GetEntityToken before you can use the Entity API");
+    static PlayFabResult<EmptyResponse> privateDeleteGroupAsync(final PlayFabInstanceAPI instance, final DeleteGroupRequest request) throws Exception {
+        final PlayFabApiContext context = PlayFabInstanceAPI.contextOf(instance);
+        final String entityToken = context.getEntityToken();
+        if (entityToken == null) throw new Exception ("Must call GetEntityToken before you can use the Entity API");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Group/DeleteGroup"), request, "X-EntityToken", PlayFabSettings.EntityToken);
+        FutureTask<Object> task = PlayFabHTTP.doPost(context.getURL("/Group/DeleteGroup"), request, "X-EntityToken", entityToken, EmptyResponse.class);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -565,9 +565,7 @@ public class PlayFabGroupsAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
-
-        PlayFabJsonSuccess<EmptyResponse> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<EmptyResponse>>(){}.getType());
+        PlayFabJsonSuccess<EmptyResponse> resultData = (PlayFabJsonSuccess<EmptyResponse>) httpResult;
         EmptyResponse result = resultData.data;
 
         PlayFabResult<EmptyResponse> pfResult = new PlayFabResult<EmptyResponse>();
@@ -584,7 +582,7 @@ public class PlayFabGroupsAPI {
     public static FutureTask<PlayFabResult<EmptyResponse>> DeleteRoleAsync(final DeleteRoleRequest request) {
         return new FutureTask(new Callable<PlayFabResult<EmptyResponse>>() {
             public PlayFabResult<EmptyResponse> call() throws Exception {
-                return privateDeleteRoleAsync(request);
+                return privateDeleteRoleAsync(null, request);
             }
         });
     }
@@ -598,7 +596,7 @@ public class PlayFabGroupsAPI {
     public static PlayFabResult<EmptyResponse> DeleteRole(final DeleteRoleRequest request) {
         FutureTask<PlayFabResult<EmptyResponse>> task = new FutureTask(new Callable<PlayFabResult<EmptyResponse>>() {
             public PlayFabResult<EmptyResponse> call() throws Exception {
-                return privateDeleteRoleAsync(request);
+                return privateDeleteRoleAsync(null, request);
             }
         });
         try {
@@ -613,10 +611,12 @@ public class PlayFabGroupsAPI {
 
     /** Deletes an existing role in a group. */
     @SuppressWarnings("unchecked")
-    private static PlayFabResult<EmptyResponse> privateDeleteRoleAsync(final DeleteRoleRequest request) throws Exception {
-        if (PlayFabSettings.EntityToken == null) throw new Exception ("Must call GetEntityToken before you can use the Entity API");
+    static PlayFabResult<EmptyResponse> privateDeleteRoleAsync(final PlayFabInstanceAPI instance, final DeleteRoleRequest request) throws Exception {
+        final PlayFabApiContext context = PlayFabInstanceAPI.contextOf(instance);
+        final String entityToken = context.getEntityToken();
+        if (entityToken == null) throw new Exception ("Must call GetEntityToken before you can use the Entity API");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Group/DeleteRole"), request, "X-EntityToken", PlayFabSettings.EntityToken);
+        FutureTask<Object> task = PlayFabHTTP.doPost(context.getURL("/Group/DeleteRole"), request, "X-EntityToken", entityToken, EmptyResponse.class);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -627,9 +627,7 @@ public class PlayFabGroupsAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
-
-        PlayFabJsonSuccess<EmptyResponse> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<EmptyResponse>>(){}.getType());
+        PlayFabJsonSuccess<EmptyResponse> resultData = (PlayFabJsonSuccess<EmptyResponse>) httpResult;
         EmptyResponse result = resultData.data;
 
         PlayFabResult<EmptyResponse> pfResult = new PlayFabResult<EmptyResponse>();
@@ -646,7 +644,7 @@ public class PlayFabGroupsAPI {
     public static FutureTask<PlayFabResult<GetGroupResponse>> GetGroupAsync(final GetGroupRequest request) {
         return new FutureTask(new Callable<PlayFabResult<GetGroupResponse>>() {
             public PlayFabResult<GetGroupResponse> call() throws Exception {
-                return privateGetGroupAsync(request);
+                return privateGetGroupAsync(null, request);
             }
         });
     }
@@ -660,7 +658,7 @@ public class PlayFabGroupsAPI {
     public static PlayFabResult<GetGroupResponse> GetGroup(final GetGroupRequest request) {
         FutureTask<PlayFabResult<GetGroupResponse>> task = new FutureTask(new Callable<PlayFabResult<GetGroupResponse>>() {
             public PlayFabResult<GetGroupResponse> call() throws Exception {
-                return privateGetGroupAsync(request);
+                return privateGetGroupAsync(null, request);
             }
         });
         try {
@@ -675,10 +673,12 @@ public class PlayFabGroupsAPI {
 
     /** Gets information about a group and its roles */
     @SuppressWarnings("unchecked")
-    private static PlayFabResult<GetGroupResponse> privateGetGroupAsync(final GetGroupRequest request) throws Exception {
-        if (PlayFabSettings.EntityToken == null) throw new Exception ("Must call GetEntityToken before you can use the Entity API");
+    static PlayFabResult<GetGroupResponse> privateGetGroupAsync(final PlayFabInstanceAPI instance, final GetGroupRequest request) throws Exception {
+        final PlayFabApiContext context = PlayFabInstanceAPI.contextOf(instance);
+        final String entityToken = context.getEntityToken();
+        if (entityToken == null) throw new Exception ("Must call GetEntityToken before you can use the Entity API");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Group/GetGroup"), request, "X-EntityToken", PlayFabSettings.EntityToken);
+        FutureTask<Object> task = PlayFabHTTP.doPost(context.getURL("/Group/GetGroup"), request, "X-EntityToken", entityToken, GetGroupResponse.class);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -689,9 +689,7 @@ public class PlayFabGroupsAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
-
-        PlayFabJsonSuccess<GetGroupResponse> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<GetGroupResponse>>(){}.getType());
+        PlayFabJsonSuccess<GetGroupResponse> resultData = (PlayFabJsonSuccess<GetGroupResponse>) httpResult;
         GetGroupResponse result = resultData.data;
 
         PlayFabResult<GetGroupResponse> pfResult = new PlayFabResult<GetGroupResponse>();
@@ -708,7 +706,7 @@ public class PlayFabGroupsAPI {
     public static FutureTask<PlayFabResult<InviteToGroupResponse>> InviteToGroupAsync(final InviteToGroupRequest request) {
         return new FutureTask(new Callable<PlayFabResult<InviteToGroupResponse>>() {
             public PlayFabResult<InviteToGroupResponse> call() throws Exception {
-                return privateInviteToGroupAsync(request);
+                return privateInviteToGroupAsync(null, request);
             }
         });
     }
@@ -722,7 +720,7 @@ public class PlayFabGroupsAPI {
     public static PlayFabResult<InviteToGroupResponse> InviteToGroup(final InviteToGroupRequest request) {
         FutureTask<PlayFabResult<InviteToGroupResponse>> task = new FutureTask(new Callable<PlayFabResult<InviteToGroupResponse>>() {
             public PlayFabResult<InviteToGroupResponse> call() throws Exception {
-                return privateInviteToGroupAsync(request);
+                return privateInviteToGroupAsync(null, request);
             }
         });
         try {
@@ -737,10 +735,12 @@ public class PlayFabGroupsAPI {
 
     /** Invites a player to join a group */
     @SuppressWarnings("unchecked")
-    private static PlayFabResult<InviteToGroupResponse> privateInviteToGroupAsync(final InviteToGroupRequest request) throws Exception {
-        if (PlayFabSettings.EntityToken == null) throw new Exception ("Must call GetEntityToken before you can use the Entity API");
+    static PlayFabResult<InviteToGroupResponse> privateInviteToGroupAsync(final PlayFabInstanceAPI instance, final InviteToGroupRequest request) throws Exception {
+        final PlayFabApiContext context = PlayFabInstanceAPI.contextOf(instance);
+        final String entityToken = context.getEntityToken();
+        if (entityToken == null) throw new Exception ("Must call GetEntityToken before you can use the Entity API");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Group/InviteToGroup"), request, "X-EntityToken", PlayFabSettings.EntityToken);
+        FutureTask<Object> task = PlayFabHTTP.doPost(context.getURL("/Group/InviteToGroup"), request, "X-EntityToken", entityToken, InviteToGroupResponse.class);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -751,9 +751,7 @@ public class PlayFabGroupsAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
-
-        PlayFabJsonSuccess<InviteToGroupResponse> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<InviteToGroupResponse>>(){}.getType());
+        PlayFabJsonSuccess<InviteToGroupResponse> resultData = (PlayFabJsonSuccess<InviteToGroupResponse>) httpResult;
         InviteToGroupResponse result = resultData.data;
 
         PlayFabResult<InviteToGroupResponse> pfResult = new PlayFabResult<InviteToGroupResponse>();
@@ -770,7 +768,7 @@ public class PlayFabGroupsAPI {
     public static FutureTask<PlayFabResult<IsMemberResponse>> IsMemberAsync(final IsMemberRequest request) {
         return new FutureTask(new Callable<PlayFabResult<IsMemberResponse>>() {
             public PlayFabResult<IsMemberResponse> call() throws Exception {
-                return privateIsMemberAsync(request);
+                return privateIsMemberAsync(null, request);
             }
         });
     }
@@ -784,7 +782,7 @@ public class PlayFabGroupsAPI {
     public static PlayFabResult<IsMemberResponse> IsMember(final IsMemberRequest request) {
         FutureTask<PlayFabResult<IsMemberResponse>> task = new FutureTask(new Callable<PlayFabResult<IsMemberResponse>>() {
             public PlayFabResult<IsMemberResponse> call() throws Exception {
-                return privateIsMemberAsync(request);
+                return privateIsMemberAsync(null, request);
             }
         });
         try {
@@ -799,10 +797,12 @@ public class PlayFabGroupsAPI {
 
     /** Checks to see if an entity is a member of a group or role within the group */
     @SuppressWarnings("unchecked")
-    private static PlayFabResult<IsMemberResponse> privateIsMemberAsync(final IsMemberRequest request) throws Exception {
-        if (PlayFabSettings.EntityToken == null) throw new Exception ("Must call GetEntityToken before you can use the Entity API");
+    static PlayFabResult<IsMemberResponse> privateIsMemberAsync(final PlayFabInstanceAPI instance, final IsMemberRequest request) throws Exception {
+        final PlayFabApiContext context = PlayFabInstanceAPI.contextOf(instance);
+        final String entityToken = context.getEntityToken();
+        if (entityToken == null) throw new Exception ("Must call GetEntityToken before you can use the Entity API");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Group/IsMember"), request, "X-EntityToken", PlayFabSettings.EntityToken);
+        FutureTask<Object> task = PlayFabHTTP.doPost(context.getURL("/Group/IsMember"), request, "X-EntityToken", entityToken, IsMemberResponse.class);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -813,9 +813,7 @@ public class PlayFabGroupsAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
-
-        PlayFabJsonSuccess<IsMemberResponse> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<IsMemberResponse>>(){}.getType());
+        PlayFabJsonSuccess<IsMemberResponse> resultData = (PlayFabJsonSuccess<IsMemberResponse>) httpResult;
         IsMemberResponse result = resultData.data;
 
         PlayFabResult<IsMemberResponse> pfResult = new PlayFabResult<IsMemberResponse>();
@@ -832,7 +830,7 @@ public class PlayFabGroupsAPI {
     public static FutureTask<PlayFabResult<ListGroupApplicationsResponse>> ListGroupApplicationsAsync(final ListGroupApplicationsRequest request) {
         return new FutureTask(new Callable<PlayFabResult<ListGroupApplicationsResponse>>() {
             public PlayFabResult<ListGroupApplicationsResponse> call() throws Exception {
-                return privateListGroupApplicationsAsync(request);
+                return privateListGroupApplicationsAsync(null, request);
             }
         });
     }
@@ -846,7 +844,7 @@ public class PlayFabGroupsAPI {
     public static PlayFabResult<ListGroupApplicationsResponse> ListGroupApplications(final ListGroupApplicationsRequest request) {
         FutureTask<PlayFabResult<ListGroupApplicationsResponse>> task = new FutureTask(new Callable<PlayFabResult<ListGroupApplicationsResponse>>() {
             public PlayFabResult<ListGroupApplicationsResponse> call() throws Exception {
-                return privateListGroupApplicationsAsync(request);
+                return privateListGroupApplicationsAsync(null, request);
             }
         });
         try {
@@ -861,10 +859,12 @@ public class PlayFabGroupsAPI {
 
     /** Lists all outstanding requests to join a group */
     @SuppressWarnings("unchecked")
-    private static PlayFabResult<ListGroupApplicationsResponse> privateListGroupApplicationsAsync(final ListGroupApplicationsRequest request) throws Exception {
-        if (PlayFabSettings.EntityToken == null) throw new Exception ("Must call GetEntityToken before you can use the Entity API");
+    static PlayFabResult<ListGroupApplicationsResponse> privateListGroupApplicationsAsync(final PlayFabInstanceAPI instance, final ListGroupApplicationsRequest request) throws Exception {
+        final PlayFabApiContext context = PlayFabInstanceAPI.contextOf(instance);
+        final String entityToken = context.getEntityToken();
+        if (entityToken == null) throw new Exception ("Must call GetEntityToken before you can use the Entity API");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Group/ListGroupApplications"), request, "X-EntityToken", PlayFabSettings.EntityToken);
+        FutureTask<Object> task = PlayFabHTTP.doPost(context.getURL("/Group/ListGroupApplications"), request, "X-EntityToken", entityToken, ListGroupApplicationsResponse.class);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -875,9 +875,7 @@ public class PlayFabGroupsAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
-
-        PlayFabJsonSuccess<ListGroupApplicationsResponse> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<ListGroupApplicationsResponse>>(){}.getType());
+        PlayFabJsonSuccess<ListGroupApplicationsResponse> resultData = (PlayFabJsonSuccess<ListGroupApplicationsResponse>) httpResult;
         ListGroupApplicationsResponse result = resultData.data;
 
         PlayFabResult<ListGroupApplicationsResponse> pfResult = new PlayFabResult<ListGroupApplicationsResponse>();
@@ -894,7 +892,7 @@ public class PlayFabGroupsAPI {
     public static FutureTask<PlayFabResult<ListGroupBlocksResponse>> ListGroupBlocksAsync(final ListGroupBlocksRequest request) {
         return new FutureTask(new Callable<PlayFabResult<ListGroupBlocksResponse>>() {
             public PlayFabResult<ListGroupBlocksResponse> call() throws Exception {
-                return privateListGroupBlocksAsync(request);
+                return privateListGroupBlocksAsync(null, request);
             }
         });
     }
@@ -908,7 +906,7 @@ public class PlayFabGroupsAPI {
     public static PlayFabResult<ListGroupBlocksResponse> ListGroupBlocks(final ListGroupBlocksRequest request) {
         FutureTask<PlayFabResult<ListGroupBlocksResponse>> task = new FutureTask(new Callable<PlayFabResult<ListGroupBlocksResponse>>() {
             public PlayFabResult<ListGroupBlocksResponse> call() throws Exception {
-                return privateListGroupBlocksAsync(request);
+                return privateListGroupBlocksAsync(null, request);
             }
         });
         try {
@@ -923,10 +921,12 @@ public class PlayFabGroupsAPI {
 
     /** Lists all entities blocked from joining a group */
     @SuppressWarnings("unchecked")
-    private static PlayFabResult<ListGroupBlocksResponse> privateListGroupBlocksAsync(final ListGroupBlocksRequest request) throws Exception {
-        if (PlayFabSettings.EntityToken == null) throw new Exception ("Must call GetEntityToken before you can use the Entity API");
+    static PlayFabResult<ListGroupBlocksResponse> privateListGroupBlocksAsync(final PlayFabInstanceAPI instance, final ListGroupBlocksRequest request) throws Exception {
+        final PlayFabApiContext context = PlayFabInstanceAPI.contextOf(instance);
+        final String entityToken = context.getEntityToken();
+        if (entityToken == null) throw new Exception ("Must call GetEntityToken before you can use the Entity API");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Group/ListGroupBlocks"), request, "X-EntityToken", PlayFabSettings.EntityToken);
+        FutureTask<Object> task = PlayFabHTTP.doPost(context.getURL("/Group/ListGroupBlocks"), request, "X-EntityToken", entityToken, ListGroupBlocksResponse.class);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -937,9 +937,7 @@ public class PlayFabGroupsAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
-
-        PlayFabJsonSuccess<ListGroupBlocksResponse> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<ListGroupBlocksResponse>>(){}.getType());
+        PlayFabJsonSuccess<ListGroupBlocksResponse> resultData = (PlayFabJsonSuccess<ListGroupBlocksResponse>) httpResult;
         ListGroupBlocksResponse result = resultData.data;
 
         PlayFabResult<ListGroupBlocksResponse> pfResult = new PlayFabResult<ListGroupBlocksResponse>();
@@ -956,7 +954,7 @@ public class PlayFabGroupsAPI {
     public static FutureTask<PlayFabResult<ListGroupInvitationsResponse>> ListGroupInvitationsAsync(final ListGroupInvitationsRequest request) {
         return new FutureTask(new Callable<PlayFabResult<ListGroupInvitationsResponse>>() {
             public PlayFabResult<ListGroupInvitationsResponse> call() throws Exception {
-                return privateListGroupInvitationsAsync(request);
+                return privateListGroupInvitationsAsync(null, request);
             }
         });
     }
@@ -970,7 +968,7 @@ public class PlayFabGroupsAPI {
     public static PlayFabResult<ListGroupInvitationsResponse> ListGroupInvitations(final ListGroupInvitationsRequest request) {
         FutureTask<PlayFabResult<ListGroupInvitationsResponse>> task = new FutureTask(new Callable<PlayFabResult<ListGroupInvitationsResponse>>() {
             public PlayFabResult<ListGroupInvitationsResponse> call() throws Exception {
-                return privateListGroupInvitationsAsync(request);
+                return privateListGroupInvitationsAsync(null, request);
             }
         });
         try {
@@ -985,10 +983,12 @@ public class PlayFabGroupsAPI {
 
     /** Lists all outstanding invitations for a group */
     @SuppressWarnings("unchecked")
-    private static PlayFabResult<ListGroupInvitationsResponse> privateListGroupInvitationsAsync(final ListGroupInvitationsRequest request) throws Exception {
-        if (PlayFabSettings.EntityToken == null) throw new Exception ("Must call GetEntityToken before you can use the Entity API");
+    static PlayFabResult<ListGroupInvitationsResponse> privateListGroupInvitationsAsync(final PlayFabInstanceAPI instance, final ListGroupInvitationsRequest request) throws Exception {
+        final PlayFabApiContext context = PlayFabInstanceAPI.contextOf(instance);
+        final String entityToken = context.getEntityToken();
+        if (entityToken == null) throw new Exception ("Must call GetEntityToken before you can use the Entity API");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Group/ListGroupInvitations"), request, "X-EntityToken", PlayFabSettings.EntityToken);
+        FutureTask<Object> task = PlayFabHTTP.doPost(context.getURL("/Group/ListGroupInvitations"), request, "X-EntityToken", entityToken, ListGroupInvitationsResponse.class);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -999,9 +999,7 @@ public class PlayFabGroupsAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
-
-        PlayFabJsonSuccess<ListGroupInvitationsResponse> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<ListGroupInvitationsResponse>>(){}.getType());
+        PlayFabJsonSuccess<ListGroupInvitationsResponse> resultData = (PlayFabJsonSuccess<ListGroupInvitationsResponse>) httpResult;
         ListGroupInvitationsResponse result = resultData.data;
 
         PlayFabResult<ListGroupInvitationsResponse> pfResult = new PlayFabResult<ListGroupInvitationsResponse>();
@@ -1018,7 +1016,7 @@ public class PlayFabGroupsAPI {
     public static FutureTask<PlayFabResult<ListGroupMembersResponse>> ListGroupMembersAsync(final ListGroupMembersRequest request) {
         return new FutureTask(new Callable<PlayFabResult<ListGroupMembersResponse>>() {
             public PlayFabResult<ListGroupMembersResponse> call() throws Exception {
-                return privateListGroupMembersAsync(request);
+                return privateListGroupMembersAsync(null, request);
             }
         });
     }
@@ -1032,7 +1030,7 @@ public class PlayFabGroupsAPI {
     public static PlayFabResult<ListGroupMembersResponse> ListGroupMembers(final ListGroupMembersRequest request) {
         FutureTask<PlayFabResult<ListGroupMembersResponse>> task = new FutureTask(new Callable<PlayFabResult<ListGroupMembersResponse>>() {
             public PlayFabResult<ListGroupMembersResponse> call() throws Exception {
-                return privateListGroupMembersAsync(request);
+                return privateListGroupMembersAsync(null, request);
             }
         });
         try {
@@ -1047,10 +1045,12 @@ public class PlayFabGroupsAPI {
 
     /** Lists all members for a group */
     @SuppressWarnings("unchecked")
-    private static PlayFabResult<ListGroupMembersResponse> privateListGroupMembersAsync(final ListGroupMembersRequest request) throws Exception {
-        if (PlayFabSettings.EntityToken == null) throw new Exception ("Must call GetEntityToken before you can use the Entity API");
+    static PlayFabResult<ListGroupMembersResponse> privateListGroupMembersAsync(final PlayFabInstanceAPI instance, final ListGroupMembersRequest request) throws Exception {
+        final PlayFabApiContext context = PlayFabInstanceAPI.contextOf(instance);
+        final String entityToken = context.getEntityToken();
+        if (entityToken == null) throw new Exception ("Must call GetEntityToken before you can use the Entity API");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Group/ListGroupMembers"), request, "X-EntityToken", PlayFabSettings.EntityToken);
+        FutureTask<Object> task = PlayFabHTTP.doPost(context.getURL("/Group/ListGroupMembers"), request, "X-EntityToken", entityToken, ListGroupMembersResponse.class);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -1061,9 +1061,7 @@ public class PlayFabGroupsAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
-
-        PlayFabJsonSuccess<ListGroupMembersResponse> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<ListGroupMembersResponse>>(){}.getType());
+        PlayFabJsonSuccess<ListGroupMembersResponse> resultData = (PlayFabJsonSuccess<ListGroupMembersResponse>) httpResult;
         ListGroupMembersResponse result = resultData.data;
 
         PlayFabResult<ListGroupMembersResponse> pfResult = new PlayFabResult<ListGroupMembersResponse>();
@@ -1080,7 +1078,7 @@ public class PlayFabGroupsAPI {
     public static FutureTask<PlayFabResult<ListMembershipResponse>> ListMembershipAsync(final ListMembershipRequest request) {
         return new FutureTask(new Callable<PlayFabResult<ListMembershipResponse>>() {
             public PlayFabResult<ListMembershipResponse> call() throws Exception {
-                return privateListMembershipAsync(request);
+                return privateListMembershipAsync(null, request);
             }
         });
     }
@@ -1094,7 +1092,7 @@ public class PlayFabGroupsAPI {
     public static PlayFabResult<ListMembershipResponse> ListMembership(final ListMembershipRequest request) {
         FutureTask<PlayFabResult<ListMembershipResponse>> task = new FutureTask(new Callable<PlayFabResult<ListMembershipResponse>>() {
             public PlayFabResult<ListMembershipResponse> call() throws Exception {
-                return privateListMembershipAsync(request);
+                return privateListMembershipAsync(null, request);
             }
         });
         try {
@@ -1109,10 +1107,12 @@ public class PlayFabGroupsAPI {
 
     /** Lists all groups and roles for an entity */
     @SuppressWarnings("unchecked")
-    private static PlayFabResult<ListMembershipResponse> privateListMembershipAsync(final ListMembershipRequest request) throws Exception {
-        if (PlayFabSettings.EntityToken == null) throw new Exception ("Must call GetEntityToken before you can use the Entity API");
+    static PlayFabResult<ListMembershipResponse> privateListMembershipAsync(final PlayFabInstanceAPI instance, final ListMembershipRequest request) throws Exception {
+        final PlayFabApiContext context = PlayFabInstanceAPI.contextOf(instance);
+        final String entityToken = context.getEntityToken();
+        if (entityToken == null) throw new Exception ("Must call GetEntityToken before you can use the Entity API");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Group/ListMembership"), request, "X-EntityToken", PlayFabSettings.EntityToken);
+        FutureTask<Object> task = PlayFabHTTP.doPost(context.getURL("/Group/ListMembership"), request, "X-EntityToken", entityToken, ListMembershipResponse.class);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -1123,9 +1123,7 @@ public class PlayFabGroupsAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
-
-        PlayFabJsonSuccess<ListMembershipResponse> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<ListMembershipResponse>>(){}.getType());
+        PlayFabJsonSuccess<ListMembershipResponse> resultData = (PlayFabJsonSuccess<ListMembershipResponse>) httpResult;
         ListMembershipResponse result = resultData.data;
 
         PlayFabResult<ListMembershipResponse> pfResult = new PlayFabResult<ListMembershipResponse>();
@@ -1142,7 +1140,7 @@ public class PlayFabGroupsAPI {
     public static FutureTask<PlayFabResult<ListMembershipOpportunitiesResponse>> ListMembershipOpportunitiesAsync(final ListMembershipOpportunitiesRequest request) {
         return new FutureTask(new Callable<PlayFabResult<ListMembershipOpportunitiesResponse>>() {
             public PlayFabResult<ListMembershipOpportunitiesResponse> call() throws Exception {
-                return privateListMembershipOpportunitiesAsync(request);
+                return privateListMembershipOpportunitiesAsync(null, request);
             }
         });
     }
@@ -1156,7 +1154,7 @@ public class PlayFabGroupsAPI {
     public static PlayFabResult<ListMembershipOpportunitiesResponse> ListMembershipOpportunities(final ListMembershipOpportunitiesRequest request) {
         FutureTask<PlayFabResult<ListMembershipOpportunitiesResponse>> task = new FutureTask(new Callable<PlayFabResult<ListMembershipOpportunitiesResponse>>() {
             public PlayFabResult<ListMembershipOpportunitiesResponse> call() throws Exception {
-                return privateListMembershipOpportunitiesAsync(request);
+                return privateListMembershipOpportunitiesAsync(null, request);
             }
         });
         try {
@@ -1171,10 +1169,12 @@ public class PlayFabGroupsAPI {
 
     /** Lists all outstanding invitations and group applications for an entity */
     @SuppressWarnings("unchecked")
-    private static PlayFabResult<ListMembershipOpportunitiesResponse> privateListMembershipOpportunitiesAsync(final ListMembershipOpportunitiesRequest request) throws Exception {
-        if (PlayFabSettings.EntityToken == null) throw new Exception ("Must call GetEntityToken before you can use the Entity API");
+    static PlayFabResult<ListMembershipOpportunitiesResponse> privateListMembershipOpportunitiesAsync(final PlayFabInstanceAPI instance, final ListMembershipOpportunitiesRequest request) throws Exception {
+        final PlayFabApiContext context = PlayFabInstanceAPI.contextOf(instance);
+        final String entityToken = context.getEntityToken();
+        if (entityToken == null) throw new Exception ("Must call GetEntityToken before you can use the Entity API");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Group/ListMembershipOpportunities"), request, "X-EntityToken", PlayFabSettings.EntityToken);
+        FutureTask<Object> task = PlayFabHTTP.doPost(context.getURL("/Group/ListMembershipOpportunities"), request, "X-EntityToken", entityToken, ListMembershipOpportunitiesResponse.class);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -1185,9 +1185,7 @@ public class PlayFabGroupsAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
-
-        PlayFabJsonSuccess<ListMembershipOpportunitiesResponse> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<ListMembershipOpportunitiesResponse>>(){}.getType());
+        PlayFabJsonSuccess<ListMembershipOpportunitiesResponse> resultData = (PlayFabJsonSuccess<ListMembershipOpportunitiesResponse>) httpResult;
         ListMembershipOpportunitiesResponse result = resultData.data;
 
         PlayFabResult<ListMembershipOpportunitiesResponse> pfResult = new PlayFabResult<ListMembershipOpportunitiesResponse>();
@@ -1204,7 +1202,7 @@ public class PlayFabGroupsAPI {
     public static FutureTask<PlayFabResult<EmptyResponse>> RemoveGroupApplicationAsync(final RemoveGroupApplicationRequest request) {
         return new FutureTask(new Callable<PlayFabResult<EmptyResponse>>() {
             public PlayFabResult<EmptyResponse> call() throws Exception {
-                return privateRemoveGroupApplicationAsync(request);
+                return privateRemoveGroupApplicationAsync(null, request);
             }
         });
     }
@@ -1218,7 +1216,7 @@ public class PlayFabGroupsAPI {
     public static PlayFabResult<EmptyResponse> RemoveGroupApplication(final RemoveGroupApplicationRequest request) {
         FutureTask<PlayFabResult<EmptyResponse>> task = new FutureTask(new Callable<PlayFabResult<EmptyResponse>>() {
             public PlayFabResult<EmptyResponse> call() throws Exception {
-                return privateRemoveGroupApplicationAsync(request);
+                return privateRemoveGroupApplicationAsync(null, request);
             }
         });
         try {
@@ -1233,10 +1231,12 @@ public class PlayFabGroupsAPI {
 
     /** Removes an application to join a group */
     @SuppressWarnings("unchecked")
-    private static PlayFabResult<EmptyResponse> privateRemoveGroupApplicationAsync(final RemoveGroupApplicationRequest request) throws Exception {
-        if (PlayFabSettings.EntityToken == null) throw new Exception ("Must call GetEntityToken before you can use the Entity API");
+    static PlayFabResult<EmptyResponse> privateRemoveGroupApplicationAsync(final PlayFabInstanceAPI instance, final RemoveGroupApplicationRequest request) throws Exception {
+        final PlayFabApiContext context = PlayFabInstanceAPI.contextOf(instance);
+        final String entityToken = context.getEntityToken();
+        if (entityToken == null) throw new Exception ("Must call GetEntityToken before you can use the Entity API");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Group/RemoveGroupApplication"), request, "X-EntityToken", PlayFabSettings.EntityToken);
+        FutureTask<Object> task = PlayFabHTTP.doPost(context.getURL("/Group/RemoveGroupApplication"), request, "X-EntityToken", entityToken, EmptyResponse.class);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -1247,9 +1247,7 @@ public class PlayFabGroupsAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
-
-        PlayFabJsonSuccess<EmptyResponse> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<EmptyResponse>>(){}.getType());
+        PlayFabJsonSuccess<EmptyResponse> resultData = (PlayFabJsonSuccess<EmptyResponse>) httpResult;
         EmptyResponse result = resultData.data;
 
         PlayFabResult<EmptyResponse> pfResult = new PlayFabResult<EmptyResponse>();
@@ -1266,7 +1264,7 @@ public class PlayFabGroupsAPI {
     public static FutureTask<PlayFabResult<EmptyResponse>> RemoveGroupInvitationAsync(final RemoveGroupInvitationRequest request) {
         return new FutureTask(new Callable<PlayFabResult<EmptyResponse>>() {
             public PlayFabResult<EmptyResponse> call() throws Exception {
-                return privateRemoveGroupInvitationAsync(request);
+                return privateRemoveGroupInvitationAsync(null, request);
             }
         });
     }
@@ -1280,7 +1278,7 @@ public class PlayFabGroupsAPI {
     public static PlayFabResult<EmptyResponse> RemoveGroupInvitation(final RemoveGroupInvitationRequest request) {
         FutureTask<PlayFabResult<EmptyResponse>> task = new FutureTask(new Callable<PlayFabResult<EmptyResponse>>() {
             public PlayFabResult<EmptyResponse> call() throws Exception {
-                return privateRemoveGroupInvitationAsync(request);
+                return privateRemoveGroupInvitationAsync(null, request);
             }
         });
         try {
@@ -1295,10 +1293,12 @@ public class PlayFabGroupsAPI {
 
     /** Removes an invitation join a group */
     @SuppressWarnings("unchecked")
-    private static PlayFabResult<EmptyResponse> privateRemoveGroupInvitationAsync(final RemoveGroupInvitationRequest request) throws Exception {
-        if (PlayFabSettings.EntityToken == null) throw new Exception ("Must call GetEntityToken before you can use the Entity API");
+    static PlayFabResult<EmptyResponse> privateRemoveGroupInvitationAsync(final PlayFabInstanceAPI instance, final RemoveGroupInvitationRequest request) throws Exception {
+        final PlayFabApiContext context = PlayFabInstanceAPI.contextOf(instance);
+        final String entityToken = context.getEntityToken();
+        if (entityToken == null) throw new Exception ("Must call GetEntityToken before you can use the Entity API");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Group/RemoveGroupInvitation"), request, "X-EntityToken", PlayFabSettings.EntityToken);
+        FutureTask<Object> task = PlayFabHTTP.doPost(context.getURL("/Group/RemoveGroupInvitation"), request, "X-EntityToken", entityToken, EmptyResponse.class);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -1309,9 +1309,7 @@ public class PlayFabGroupsAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
-
-        PlayFabJsonSuccess<EmptyResponse> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<EmptyResponse>>(){}.getType());
+        PlayFabJsonSuccess<EmptyResponse> resultData = (PlayFabJsonSuccess<EmptyResponse>) httpResult;
         EmptyResponse result = resultData.data;
 
         PlayFabResult<EmptyResponse> pfResult = new PlayFabResult<EmptyResponse>();
@@ -1328,7 +1326,7 @@ public class PlayFabGroupsAPI {
     public static FutureTask<PlayFabResult<EmptyResponse>> RemoveMembersAsync(final RemoveMembersRequest request) {
         return new FutureTask(new Callable<PlayFabResult<EmptyResponse>>() {
             public PlayFabResult<EmptyResponse> call() throws Exception {
-                return privateRemoveMembersAsync(request);
+                return privateRemoveMembersAsync(null, request);
             }
         });
     }
@@ -1342,7 +1340,7 @@ public class PlayFabGroupsAPI {
     public static PlayFabResult<EmptyResponse> RemoveMembers(final RemoveMembersRequest request) {
         FutureTask<PlayFabResult<EmptyResponse>> task = new FutureTask(new Callable<PlayFabResult<EmptyResponse>>() {
             public PlayFabResult<EmptyResponse> call() throws Exception {
-                return privateRemoveMembersAsync(request);
+                return privateRemoveMembersAsync(null, request);
             }
         });
         try {
@@ -1357,10 +1355,12 @@ public class PlayFabGroupsAPI {
 
     /** Removes members from a group. */
     @SuppressWarnings("unchecked")
-    private static PlayFabResult<EmptyResponse> privateRemoveMembersAsync(final RemoveMembersRequest request) throws Exception {
-        if (PlayFabSettings.EntityToken == null) throw new Exception ("Must call GetEntityToken before you can use the Entity API");
+    static PlayFabResult<EmptyResponse> privateRemoveMembersAsync(final PlayFabInstanceAPI instance, final RemoveMembersRequest request) throws Exception {
+        final PlayFabApiContext context = PlayFabInstanceAPI.contextOf(instance);
+        final String entityToken = context.getEntityToken();
+        if (entityToken == null) throw new Exception ("Must call GetEntityToken before you can use the Entity API");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Group/RemoveMembers"), request, "X-EntityToken", PlayFabSettings.EntityToken);
+        FutureTask<Object> task = PlayFabHTTP.doPost(context.getURL("/Group/RemoveMembers"), request, "X-EntityToken", entityToken, EmptyResponse.class);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -1371,9 +1371,7 @@ public class PlayFabGroupsAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
-
-        PlayFabJsonSuccess<EmptyResponse> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<EmptyResponse>>(){}.getType());
+        PlayFabJsonSuccess<EmptyResponse> resultData = (PlayFabJsonSuccess<EmptyResponse>) httpResult;
         EmptyResponse result = resultData.data;
 
         PlayFabResult<EmptyResponse> pfResult = new PlayFabResult<EmptyResponse>();
@@ -1390,7 +1388,7 @@ public class PlayFabGroupsAPI {
     public static FutureTask<PlayFabResult<EmptyResponse>> UnblockEntityAsync(final UnblockEntityRequest request) {
         return new FutureTask(new Callable<PlayFabResult<EmptyResponse>>() {
             public PlayFabResult<EmptyResponse> call() throws Exception {
-                return privateUnblockEntityAsync(request);
+                return privateUnblockEntityAsync(null, request);
             }
         });
     }
@@ -1404,7 +1402,7 @@ public class PlayFabGroupsAPI {
     public static PlayFabResult<EmptyResponse> UnblockEntity(final UnblockEntityRequest request) {
         FutureTask<PlayFabResult<EmptyResponse>> task = new FutureTask(new Callable<PlayFabResult<EmptyResponse>>() {
             public PlayFabResult<EmptyResponse> call() throws Exception {
-                return privateUnblockEntityAsync(request);
+                return privateUnblockEntityAsync(null, request);
             }
         });
         try {
@@ -1419,10 +1417,12 @@ public class PlayFabGroupsAPI {
 
     /** Unblocks a list of entities from joining a group */
     @SuppressWarnings("unchecked")
-    private static PlayFabResult<EmptyResponse> privateUnblockEntityAsync(final UnblockEntityRequest request) throws Exception {
-        if (PlayFabSettings.EntityToken == null) throw new Exception ("Must call GetEntityToken before you can use the Entity API");
+    static PlayFabResult<EmptyResponse> privateUnblockEntityAsync(final PlayFabInstanceAPI instance, final UnblockEntityRequest request) throws Exception {
+        final PlayFabApiContext context = PlayFabInstanceAPI.contextOf(instance);
+        final String entityToken = context.getEntityToken();
+        if (entityToken == null) throw new Exception ("Must call GetEntityToken before you can use the Entity API");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Group/UnblockEntity"), request, "X-EntityToken", PlayFabSettings.EntityToken);
+        FutureTask<Object> task = PlayFabHTTP.doPost(context.getURL("/Group/UnblockEntity"), request, "X-EntityToken", entityToken, EmptyResponse.class);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -1433,9 +1433,7 @@ public class PlayFabGroupsAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
-
-        PlayFabJsonSuccess<EmptyResponse> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<EmptyResponse>>(){}.getType());
+        PlayFabJsonSuccess<EmptyResponse> resultData = (PlayFabJsonSuccess<EmptyResponse>) httpResult;
         EmptyResponse result = resultData.data;
 
         PlayFabResult<EmptyResponse> pfResult = new PlayFabResult<EmptyResponse>();
@@ -1452,7 +1450,7 @@ public class PlayFabGroupsAPI {
     public static FutureTask<PlayFabResult<UpdateGroupResponse>> UpdateGroupAsync(final UpdateGroupRequest request) {
         return new FutureTask(new Callable<PlayFabResult<UpdateGroupResponse>>() {
             public PlayFabResult<UpdateGroupResponse> call() throws Exception {
-                return privateUpdateGroupAsync(request);
+                return privateUpdateGroupAsync(null, request);
             }
         });
     }
@@ -1466,7 +1464,7 @@ public class PlayFabGroupsAPI {
     public static PlayFabResult<UpdateGroupResponse> UpdateGroup(final UpdateGroupRequest request) {
         FutureTask<PlayFabResult<UpdateGroupResponse>> task = new FutureTask(new Callable<PlayFabResult<UpdateGroupResponse>>() {
             public PlayFabResult<UpdateGroupResponse> call() throws Exception {
-                return privateUpdateGroupAsync(request);
+                return privateUpdateGroupAsync(null, request);
             }
         });
         try {
@@ -1481,10 +1479,12 @@ public class PlayFabGroupsAPI {
 
     /** Updates non-membership data about a group. */
     @SuppressWarnings("unchecked")
-    private static PlayFabResult<UpdateGroupResponse> privateUpdateGroupAsync(final UpdateGroupRequest request) throws Exception {
-        if (PlayFabSettings.EntityToken == null) throw new Exception ("Must call GetEntityToken before you can use the Entity API");
+    static PlayFabResult<UpdateGroupResponse> privateUpdateGroupAsync(final PlayFabInstanceAPI instance, final UpdateGroupRequest request) throws Exception {
+        final PlayFabApiContext context = PlayFabInstanceAPI.contextOf(instance);
+        final String entityToken = context.getEntityToken();
+        if (entityToken == null) throw new Exception ("Must call GetEntityToken before you can use the Entity API");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Group/UpdateGroup"), request, "X-EntityToken", PlayFabSettings.EntityToken);
+        FutureTask<Object> task = PlayFabHTTP.doPost(context.getURL("/Group/UpdateGroup"), request, "X-EntityToken", entityToken, UpdateGroupResponse.class);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -1495,9 +1495,7 @@ public class PlayFabGroupsAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
-
-        PlayFabJsonSuccess<UpdateGroupResponse> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<UpdateGroupResponse>>(){}.getType());
+        PlayFabJsonSuccess<UpdateGroupResponse> resultData = (PlayFabJsonSuccess<UpdateGroupResponse>) httpResult;
         UpdateGroupResponse result = resultData.data;
 
         PlayFabResult<UpdateGroupResponse> pfResult = new PlayFabResult<UpdateGroupResponse>();
@@ -1514,7 +1512,7 @@ public class PlayFabGroupsAPI {
     public static FutureTask<PlayFabResult<UpdateGroupRoleResponse>> UpdateRoleAsync(final UpdateGroupRoleRequest request) {
         return new FutureTask(new Callable<PlayFabResult<UpdateGroupRoleResponse>>() {
             public PlayFabResult<UpdateGroupRoleResponse> call() throws Exception {
-                return privateUpdateRoleAsync(request);
+                return privateUpdateRoleAsync(null, request);
             }
         });
     }
@@ -1528,7 +1526,7 @@ public class PlayFabGroupsAPI {
     public static PlayFabResult<UpdateGroupRoleResponse> UpdateRole(final UpdateGroupRoleRequest request) {
         FutureTask<PlayFabResult<UpdateGroupRoleResponse>> task = new FutureTask(new Callable<PlayFabResult<UpdateGroupRoleResponse>>() {
             public PlayFabResult<UpdateGroupRoleResponse> call() throws Exception {
-                return privateUpdateRoleAsync(request);
+                return privateUpdateRoleAsync(null, request);
             }
         });
         try {
@@ -1543,10 +1541,12 @@ public class PlayFabGroupsAPI {
 
     /** Updates metadata about a role. */
     @SuppressWarnings("unchecked")
-    private static PlayFabResult<UpdateGroupRoleResponse> privateUpdateRoleAsync(final UpdateGroupRoleRequest request) throws Exception {
-        if (PlayFabSettings.EntityToken == null) throw new Exception ("Must call GetEntityToken before you can use the Entity API");
+    static PlayFabResult<UpdateGroupRoleResponse> privateUpdateRoleAsync(final PlayFabInstanceAPI instance, final UpdateGroupRoleRequest request) throws Exception {
+        final PlayFabApiContext context = PlayFabInstanceAPI.contextOf(instance);
+        final String entityToken = context.getEntityToken();
+        if (entityToken == null) throw new Exception ("Must call GetEntityToken before you can use the Entity API");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Group/UpdateRole"), request, "X-EntityToken", PlayFabSettings.EntityToken);
+        FutureTask<Object> task = PlayFabHTTP.doPost(context.getURL("/Group/UpdateRole"), request, "X-EntityToken", entityToken, UpdateGroupRoleResponse.class);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -1557,9 +1557,7 @@ public class PlayFabGroupsAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
-
-        PlayFabJsonSuccess<UpdateGroupRoleResponse> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<UpdateGroupRoleResponse>>(){}.getType());
+        PlayFabJsonSuccess<UpdateGroupRoleResponse> resultData = (PlayFabJsonSuccess<UpdateGroupRoleResponse>) httpResult;
         UpdateGroupRoleResponse result = resultData.data;
 
         PlayFabResult<UpdateGroupRoleResponse> pfResult = new PlayFabResult<UpdateGroupRoleResponse>();
@@ -1567,4 +1565,343 @@ public class PlayFabGroupsAPI {
         return pfResult;
     }
 
+    /**
+     * @return Non-blocking versions of every PlayFabGroupsAPI call, started on PlayFabSettings.AsyncExecutor
+     */
+    public static Async async() {
+        return async;
+    }
+
+    /**
+     * Non-blocking versions of the PlayFabGroupsAPI calls. Each call is already running when its PlayFabFuture is returned.
+     */
+    public static class Async {
+        private Async() {
+        }
+
+        /**
+         * Accepts an outstanding invitation to to join a group
+         * @param request AcceptGroupApplicationRequest
+         * @return Running future that will complete with EmptyResponse
+         */
+        public PlayFabFuture<PlayFabResult<EmptyResponse>> AcceptGroupApplication(final AcceptGroupApplicationRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<EmptyResponse>>() {
+                public PlayFabResult<EmptyResponse> call() throws Exception {
+                    return privateAcceptGroupApplicationAsync(null, request);
+                }
+            });
+        }
+
+        /**
+         * Accepts an invitation to join a group
+         * @param request AcceptGroupInvitationRequest
+         * @return Running future that will complete with EmptyResponse
+         */
+        public PlayFabFuture<PlayFabResult<EmptyResponse>> AcceptGroupInvitation(final AcceptGroupInvitationRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<EmptyResponse>>() {
+                public PlayFabResult<EmptyResponse> call() throws Exception {
+                    return privateAcceptGroupInvitationAsync(null, request);
+                }
+            });
+        }
+
+        /**
+         * Adds members to a group or role.
+         * @param request AddMembersRequest
+         * @return Running future that will complete with EmptyResponse
+         */
+        public PlayFabFuture<PlayFabResult<EmptyResponse>> AddMembers(final AddMembersRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<EmptyResponse>>() {
+                public PlayFabResult<EmptyResponse> call() throws Exception {
+                    return privateAddMembersAsync(null, request);
+                }
+            });
+        }
+
+        /**
+         * Applies to join a group
+         * @param request ApplyToGroupRequest
+         * @return Running future that will complete with ApplyToGroupResponse
+         */
+        public PlayFabFuture<PlayFabResult<ApplyToGroupResponse>> ApplyToGroup(final ApplyToGroupRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<ApplyToGroupResponse>>() {
+                public PlayFabResult<ApplyToGroupResponse> call() throws Exception {
+                    return privateApplyToGroupAsync(null, request);
+                }
+            });
+        }
+
+        /**
+         * Blocks a list of entities from joining a group.
+         * @param request BlockEntityRequest
+         * @return Running future that will complete with EmptyResponse
+         */
+        public PlayFabFuture<PlayFabResult<EmptyResponse>> BlockEntity(final BlockEntityRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<EmptyResponse>>() {
+                public PlayFabResult<EmptyResponse> call() throws Exception {
+                    return privateBlockEntityAsync(null, request);
+                }
+            });
+        }
+
+        /**
+         * Changes the role membership of a list of entities from one role to another.
+         * @param request ChangeMemberRoleRequest
+         * @return Running future that will complete with EmptyResponse
+         */
+        public PlayFabFuture<PlayFabResult<EmptyResponse>> ChangeMemberRole(final ChangeMemberRoleRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<EmptyResponse>>() {
+                public PlayFabResult<EmptyResponse> call() throws Exception {
+                    return privateChangeMemberRoleAsync(null, request);
+                }
+            });
+        }
+
+        /**
+         * Creates a new group.
+         * @param request CreateGroupRequest
+         * @return Running future that will complete with CreateGroupResponse
+         */
+        public PlayFabFuture<PlayFabResult<CreateGroupResponse>> CreateGroup(final CreateGroupRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<CreateGroupResponse>>() {
+                public PlayFabResult<CreateGroupResponse> call() throws Exception {
+                    return privateCreateGroupAsync(null, request);
+                }
+            });
+        }
+
+        /**
+         * Creates a new group role.
+         * @param request CreateGroupRoleRequest
+         * @return Running future that will complete with CreateGroupRoleResponse
+         */
+        public PlayFabFuture<PlayFabResult<CreateGroupRoleResponse>> CreateRole(final CreateGroupRoleRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<CreateGroupRoleResponse>>() {
+                public PlayFabResult<CreateGroupRoleResponse> call() throws Exception {
+                    return privateCreateRoleAsync(null, request);
+                }
+            });
+        }
+
+        /**
+         * Deletes a group and all roles, invitations, join requests, and blocks associated with it.
+         * @param request DeleteGroupRequest
+         * @return Running future that will complete with EmptyResponse
+         */
+        public PlayFabFuture<PlayFabResult<EmptyResponse>> DeleteGroup(final DeleteGroupRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<EmptyResponse>>() {
+                public PlayFabResult<EmptyResponse> call() throws Exception {
+                    return privateDeleteGroupAsync(null, request);
+                }
+            });
+        }
+
+        /**
+         * Deletes an existing role in a group.
+         * @param request DeleteRoleRequest
+         * @return Running future that will complete with EmptyResponse
+         */
+        public PlayFabFuture<PlayFabResult<EmptyResponse>> DeleteRole(final DeleteRoleRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<EmptyResponse>>() {
+                public PlayFabResult<EmptyResponse> call() throws Exception {
+                    return privateDeleteRoleAsync(null, request);
+                }
+            });
+        }
+
+        /**
+         * Gets information about a group and its roles
+         * @param request GetGroupRequest
+         * @return Running future that will complete with GetGroupResponse
+         */
+        public PlayFabFuture<PlayFabResult<GetGroupResponse>> GetGroup(final GetGroupRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<GetGroupResponse>>() {
+                public PlayFabResult<GetGroupResponse> call() throws Exception {
+                    return privateGetGroupAsync(null, request);
+                }
+            });
+        }
+
+        /**
+         * Invites a player to join a group
+         * @param request InviteToGroupRequest
+         * @return Running future that will complete with InviteToGroupResponse
+         */
+        public PlayFabFuture<PlayFabResult<InviteToGroupResponse>> InviteToGroup(final InviteToGroupRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<InviteToGroupResponse>>() {
+                public PlayFabResult<InviteToGroupResponse> call() throws Exception {
+                    return privateInviteToGroupAsync(null, request);
+                }
+            });
+        }
+
+        /**
+         * Checks to see if an entity is a member of a group or role within the group
+         * @param request IsMemberRequest
+         * @return Running future that will complete with IsMemberResponse
+         */
+        public PlayFabFuture<PlayFabResult<IsMemberResponse>> IsMember(final IsMemberRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<IsMemberResponse>>() {
+                public PlayFabResult<IsMemberResponse> call() throws Exception {
+                    return privateIsMemberAsync(null, request);
+                }
+            });
+        }
+
+        /**
+         * Lists all outstanding requests to join a group
+         * @param request ListGroupApplicationsRequest
+         * @return Running future that will complete with ListGroupApplicationsResponse
+         */
+        public PlayFabFuture<PlayFabResult<ListGroupApplicationsResponse>> ListGroupApplications(final ListGroupApplicationsRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<ListGroupApplicationsResponse>>() {
+                public PlayFabResult<ListGroupApplicationsResponse> call() throws Exception {
+                    return privateListGroupApplicationsAsync(null, request);
+                }
+            });
+        }
+
+        /**
+         * Lists all entities blocked from joining a group
+         * @param request ListGroupBlocksRequest
+         * @return Running future that will complete with ListGroupBlocksResponse
+         */
+        public PlayFabFuture<PlayFabResult<ListGroupBlocksResponse>> ListGroupBlocks(final ListGroupBlocksRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<ListGroupBlocksResponse>>() {
+                public PlayFabResult<ListGroupBlocksResponse> call() throws Exception {
+                    return privateListGroupBlocksAsync(null, request);
+                }
+            });
+        }
+
+        /**
+         * Lists all outstanding invitations for a group
+         * @param request ListGroupInvitationsRequest
+         * @return Running future that will complete with ListGroupInvitationsResponse
+         */
+        public PlayFabFuture<PlayFabResult<ListGroupInvitationsResponse>> ListGroupInvitations(final ListGroupInvitationsRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<ListGroupInvitationsResponse>>() {
+                public PlayFabResult<ListGroupInvitationsResponse> call() throws Exception {
+                    return privateListGroupInvitationsAsync(null, request);
+                }
+            });
+        }
+
+        /**
+         * Lists all members for a group
+         * @param request ListGroupMembersRequest
+         * @return Running future that will complete with ListGroupMembersResponse
+         */
+        public PlayFabFuture<PlayFabResult<ListGroupMembersResponse>> ListGroupMembers(final ListGroupMembersRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<ListGroupMembersResponse>>() {
+                public PlayFabResult<ListGroupMembersResponse> call() throws Exception {
+                    return privateListGroupMembersAsync(null, request);
+                }
+            });
+        }
+
+        /**
+         * Lists all groups and roles for an entity
+         * @param request ListMembershipRequest
+         * @return Running future that will complete with ListMembershipResponse
+         */
+        public PlayFabFuture<PlayFabResult<ListMembershipResponse>> ListMembership(final ListMembershipRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<ListMembershipResponse>>() {
+                public PlayFabResult<ListMembershipResponse> call() throws Exception {
+                    return privateListMembershipAsync(null, request);
+                }
+            });
+        }
+
+        /**
+         * Lists all outstanding invitations and group applications for an entity
+         * @param request ListMembershipOpportunitiesRequest
+         * @return Running future that will complete with ListMembershipOpportunitiesResponse
+         */
+        public PlayFabFuture<PlayFabResult<ListMembershipOpportunitiesResponse>> ListMembershipOpportunities(final ListMembershipOpportunitiesRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<ListMembershipOpportunitiesResponse>>() {
+                public PlayFabResult<ListMembershipOpportunitiesResponse> call() throws Exception {
+                    return privateListMembershipOpportunitiesAsync(null, request);
+                }
+            });
+        }
+
+        /**
+         * Removes an application to join a group
+         * @param request RemoveGroupApplicationRequest
+         * @return Running future that will complete with EmptyResponse
+         */
+        public PlayFabFuture<PlayFabResult<EmptyResponse>> RemoveGroupApplication(final RemoveGroupApplicationRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<EmptyResponse>>() {
+                public PlayFabResult<EmptyResponse> call() throws Exception {
+                    return privateRemoveGroupApplicationAsync(null, request);
+                }
+            });
+        }
+
+        /**
+         * Removes an invitation join a group
+         * @param request RemoveGroupInvitationRequest
+         * @return Running future that will complete with EmptyResponse
+         */
+        public PlayFabFuture<PlayFabResult<EmptyResponse>> RemoveGroupInvitation(final RemoveGroupInvitationRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<EmptyResponse>>() {
+                public PlayFabResult<EmptyResponse> call() throws Exception {
+                    return privateRemoveGroupInvitationAsync(null, request);
+                }
+            });
+        }
+
+        /**
+         * Removes members from a group.
+         * @param request RemoveMembersRequest
+         * @return Running future that will complete with EmptyResponse
+         */
+        public PlayFabFuture<PlayFabResult<EmptyResponse>> RemoveMembers(final RemoveMembersRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<EmptyResponse>>() {
+                public PlayFabResult<EmptyResponse> call() throws Exception {
+                    return privateRemoveMembersAsync(null, request);
+                }
+            });
+        }
+
+        /**
+         * Unblocks a list of entities from joining a group
+         * @param request UnblockEntityRequest
+         * @return Running future that will complete with EmptyResponse
+         */
+        public PlayFabFuture<PlayFabResult<EmptyResponse>> UnblockEntity(final UnblockEntityRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<EmptyResponse>>() {
+                public PlayFabResult<EmptyResponse> call() throws Exception {
+                    return privateUnblockEntityAsync(null, request);
+                }
+            });
+        }
+
+        /**
+         * Updates non-membership data about a group.
+         * @param request UpdateGroupRequest
+         * @return Running future that will complete with UpdateGroupResponse
+         */
+        public PlayFabFuture<PlayFabResult<UpdateGroupResponse>> UpdateGroup(final UpdateGroupRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<UpdateGroupResponse>>() {
+                public PlayFabResult<UpdateGroupResponse> call() throws Exception {
+                    return privateUpdateGroupAsync(null, request);
+                }
+            });
+        }
+
+        /**
+         * Updates metadata about a role.
+         * @param request UpdateGroupRoleRequest
+         * @return Running future that will complete with UpdateGroupRoleResponse
+         */
+        public PlayFabFuture<PlayFabResult<UpdateGroupRoleResponse>> UpdateRole(final UpdateGroupRoleRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<UpdateGroupRoleResponse>>() {
+                public PlayFabResult<UpdateGroupRoleResponse> call() throws Exception {
+                    return privateUpdateRoleAsync(null, request);
+                }
+            });
+        }
+    }
 }
@@ -0,0 +1,63 @@
+package com.playfab;
+
+import com.playfab.internal.*;
+import com.playfab.PlayFabLocalizationModels.*;
+import com.playfab.PlayFabErrors.*;
+import com.playfab.PlayFabSettings;
+import java.util.concurrent.*;
+import java.util.*;
+
+    /**
+     * The calls of PlayFabLocalizationAPI, made with a PlayFabApiContext of this object's own instead of PlayFabSettings. Login
+     * and GetEntityToken calls keep the credentials they return in that context
+     */
+public class PlayFabLocalizationInstanceAPI extends PlayFabInstanceAPI {
+    private final Async async = new Async();
+
+    public PlayFabLocalizationInstanceAPI(PlayFabApiContext context) {
+        super(context);
+    }
+
+    /**
+     * Retrieves the list of allowed languages, only accessible by title entities
+     * @param request GetLanguageListRequest
+     * @return GetLanguageListResponse
+     */
+    public PlayFabResult<GetLanguageListResponse> GetLanguageList(final GetLanguageListRequest request) {
+        try {
+            return PlayFabLocalizationAPI.privateGetLanguageListAsync(this, request);
+        } catch(Exception e) {
+            PlayFabResult<GetLanguageListResponse> exceptionResult = new PlayFabResult<GetLanguageListResponse>();
+            exceptionResult.Error = PlayFabHTTP.GeneratePfError(-1, PlayFabErrorCode.Unknown, e.getMessage(), null, null);
+            return exceptionResult;
+        }
+    }
+
+    /**
+     * @return Non-blocking versions of every call, made with this object's context and started on PlayFabSettings.AsyncExecutor
+     */
+    public Async async() {
+        return async;
+    }
+
+    /**
+     * Non-blocking versions of the PlayFabLocalizationInstanceAPI calls. Each call is already running when its PlayFabFuture is returned.
+     */
+    public class Async {
+        private Async() {
+        }
+
+        /**
+         * Retrieves the list of allowed languages, only accessible by title entities
+         * @param request GetLanguageListRequest
+         * @return Running future that will complete with GetLanguageListResponse
+         */
+        public PlayFabFuture<PlayFabResult<GetLanguageListResponse>> GetLanguageList(final GetLanguageListRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<GetLanguageListResponse>>() {
+                public PlayFabResult<GetLanguageListResponse> call() throws Exception {
+                    return PlayFabLocalizationAPI.privateGetLanguageListAsync(PlayFabLocalizationInstanceAPI.this, request);
+                }
+            });
+        }
+    }
+}
@@ -6,12 +6,10 @@ import com.playfab.PlayFabErrors.*;
 import com.playfab.PlayFabSettings;
 import java.util.concurrent.*;
 import java.util.*;
-import com.google.gson.*;
-import com.google.gson.reflect.*;
 
     /** Enables the use of an external match-making service in conjunction with PlayFab hosted Game Server instances */
 public class PlayFabMatchmakerAPI {
-    private static Gson gson = new GsonBuilder().setDateFormat("yyyy-MM-dd'T'HH:mm:ss.SSS'Z'").create();
+    private static final Async async = new Async();
 
     /**
      * Validates a user with the PlayFab service
@@ -22,7 +20,7 @@ public class PlayFabMatchmakerAPI {
     public static FutureTask<PlayFabResult<AuthUserResponse>> AuthUserAsync(final AuthUserRequest request) {
         return new FutureTask(new Callable<PlayFabResult<AuthUserResponse>>() {
             public PlayFabResult<AuthUserResponse> call() throws Exception {
-                return privateAuthUserAsync(request);
+                return privateAuthUserAsync(null, request);
             }
         });
     }
@@ -36,7 +34,7 @@ public class PlayFabMatchmakerAPI {
     public static PlayFabResult<AuthUserResponse> AuthUser(final AuthUserRequest request) {
         FutureTask<PlayFabResult<AuthUserResponse>> task = new FutureTask(new Callable<PlayFabResult<AuthUserResponse>>() {
             public PlayFabResult<AuthUserResponse> call() throws Exception {
-                return privateAuthUserAsync(request);
+                return privateAuthUserAsync(null, request);
             }
         });
         try {
@@ -51,10 +49,11 @@ public class PlayFabMatchmakerAPI {
 
     /** Validates a user with the PlayFab service */
     @SuppressWarnings("unchecked")
-    private static PlayFabResult<AuthUserResponse> privateAuthUserAsync(final AuthUserRequest request) throws Exception {
-        if (PlayFabSettings.DeveloperSecretKey == null) throw new Exception ("Must have PlayFabSettings.DeveloperSecretKey set to call this method");
+    static PlayFabResult<AuthUserResponse> privateAuthUserAsync(final PlayFabInstanceAPI instance, final AuthUserRequest request) throws Exception {
+        final PlayFabApiContext context = PlayFabInstanceAPI.contextOf(instance);
+        if (context.getDeveloperSecretKey() == null) throw new Exception ("Must have PlayFabSettings.DeveloperSecretKey set to call this method");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Matchmaker/AuthUser"), request, "X-SecretKey", PlayFabSettings.DeveloperSecretKey);
+        FutureTask<Object> task = PlayFabHTTP.doPost(context.getURL("/Matchmaker/AuthUser"), request, "X-SecretKey", context.getDeveloperSecretKey(), AuthUserResponse.class);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -65,9 +64,7 @@ public class PlayFabMatchmakerAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
-
-        PlayFabJsonSuccess<AuthUserResponse> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<AuthUserResponse>>(){}.getType());
+        PlayFabJsonSuccess<AuthUserResponse> resultData = (PlayFabJsonSuccess<AuthUserResponse>) httpResult;
         AuthUserResponse result = resultData.data;
 
         PlayFabResult<AuthUserResponse> pfResult = new PlayFabResult<AuthUserResponse>();
@@ -84,7 +81,7 @@ public class PlayFabMatchmakerAPI {
     public static FutureTask<PlayFabResult<PlayerJoinedResponse>> PlayerJoinedAsync(final PlayerJoinedRequest request) {
         return new FutureTask(new Callable<PlayFabResult<PlayerJoinedResponse>>() {
             public PlayFabResult<PlayerJoinedResponse> call() throws Exception {
-                return privatePlayerJoinedAsync(request);
+                return privatePlayerJoinedAsync(null, request);
             }
         });
     }
@@ -98,7 +95,7 @@ public class PlayFabMatchmakerAPI {
     public static PlayFabResult<PlayerJoinedResponse> PlayerJoined(final PlayerJoinedRequest request) {
         FutureTask<PlayFabResult<PlayerJoinedResponse>> task = new FutureTask(new Callable<PlayFabResult<PlayerJoinedResponse>>() {
             public PlayFabResult<PlayerJoinedResponse> call() throws Exception {
-                return privatePlayerJoinedAsync(request);
+                return privatePlayerJoinedAsync(null, request);
             }
         });
         try {
@@ -113,10 +110,11 @@ public class PlayFabMatchmakerAPI {
 
     /** Informs the PlayFab game server hosting service that the indicated user has joined the Game Server Instance specified */
     @SuppressWarnings("unchecked")
-    private static PlayFabResult<PlayerJoinedResponse> privatePlayerJoinedAsync(final PlayerJoinedRequest request) throws Exception {
-        if (PlayFabSettings.DeveloperSecretKey == null) throw new Exception ("Must have PlayFabSettings.DeveloperSecretKey set to call this method");
+    static PlayFabResult<PlayerJoinedResponse> privatePlayerJoinedAsync(final PlayFabInstanceAPI instance, final PlayerJoinedRequest request) throws Exception {
+        final PlayFabApiContext context = PlayFabInstanceAPI.contextOf(instance);
+        if (context.getDeveloperSecretKey() == null) throw new Exception ("Must have PlayFabSettings.DeveloperSecretKey set to call this method");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Matchmaker/PlayerJoined"), request, "X-SecretKey", PlayFabSettings.DeveloperSecretKey);
+        FutureTask<Object> task = PlayFabHTTP.doPost(context.getURL("/Matchmaker/PlayerJoined"), request, "X-SecretKey", context.getDeveloperSecretKey(), PlayerJoinedResponse.class);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -127,9 +125,7 @@ public class PlayFabMatchmakerAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
-
-        PlayFabJsonSuccess<PlayerJoinedResponse> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<PlayerJoinedResponse>>(){}.getType());
+        PlayFabJsonSuccess<PlayerJoinedResponse> resultData = (PlayFabJsonSuccess<PlayerJoinedResponse>) httpResult;
         PlayerJoinedResponse result = resultData.data;
 
         PlayFabResult<PlayerJoinedResponse> pfResult = new PlayFabResult<PlayerJoinedResponse>();
@@ -146,7 +142,7 @@ public class PlayFabMatchmakerAPI {
     public static FutureTask<PlayFabResult<PlayerLeftResponse>> PlayerLeftAsync(final PlayerLeftRequest request) {
         return new FutureTask(new Callable<PlayFabResult<PlayerLeftResponse>>() {
             public PlayFabResult<PlayerLeftResponse> call() throws Exception {
-                return privatePlayerLeftAsync(request);
+                return privatePlayerLeftAsync(null, request);
             }
         });
     }
@@ -160,7 +156,7 @@ public class PlayFabMatchmakerAPI {
     public static PlayFabResult<PlayerLeftResponse> PlayerLeft(final PlayerLeftRequest request) {
         FutureTask<PlayFabResult<PlayerLeftResponse>> task = new FutureTask(new Callable<PlayFabResult<PlayerLeftResponse>>() {
             public PlayFabResult<PlayerLeftResponse> call() throws Exception {
-                return privatePlayerLeftAsync(request);
+                return privatePlayerLeftAsync(null, request);
             }
         });
         try {
@@ -175,10 +171,11 @@ public class PlayFabMatchmakerAPI {
 
     /** Informs the PlayFab game server hosting service that the indicated user has left the Game Server Instance specified */
     @SuppressWarnings("unchecked")
-    private static PlayFabResult<PlayerLeftResponse> privatePlayerLeftAsync(final PlayerLeftRequest request) throws Exception {
-        if (PlayFabSettings.DeveloperSecretKey == null) throw new Exception ("Must have PlayFabSettings.DeveloperSecretKey set to call this method");
+    static PlayFabResult<PlayerLeftResponse> privatePlayerLeftAsync(final PlayFabInstanceAPI instance, final PlayerLeftRequest request) throws Exception {
+        final PlayFabApiContext context = PlayFabInstanceAPI.contextOf(instance);
+        if (context.getDeveloperSecretKey() == null) throw new Exception ("Must have PlayFabSettings.DeveloperSecretKey set to call this method");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Matchmaker/PlayerLeft"), request, "X-SecretKey", PlayFabSettings.DeveloperSecretKey);
+        FutureTask<Object> task = PlayFabHTTP.doPost(context.getURL("/Matchmaker/PlayerLeft"), request, "X-SecretKey", context.getDeveloperSecretKey(), PlayerLeftResponse.class);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -189,9 +186,7 @@ public class PlayFabMatchmakerAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
-
-        PlayFabJsonSuccess<PlayerLeftResponse> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<PlayerLeftResponse>>(){}.getType());
+        PlayFabJsonSuccess<PlayerLeftResponse> resultData = (PlayFabJsonSuccess<PlayerLeftResponse>) httpResult;
         PlayerLeftResponse result = resultData.data;
 
         PlayFabResult<PlayerLeftResponse> pfResult = new PlayFabResult<PlayerLeftResponse>();
@@ -208,7 +203,7 @@ public class PlayFabMatchmakerAPI {
     public static FutureTask<PlayFabResult<StartGameResponse>> StartGameAsync(final StartGameRequest request) {
         return new FutureTask(new Callable<PlayFabResult<StartGameResponse>>() {
             public PlayFabResult<StartGameResponse> call() throws Exception {
-                return privateStartGameAsync(request);
+                return privateStartGameAsync(null, request);
             }
         });
     }
@@ -222,7 +217,7 @@ public class PlayFabMatchmakerAPI {
     public static PlayFabResult<StartGameResponse> StartGame(final StartGameRequest request) {
         FutureTask<PlayFabResult<StartGameResponse>> task = new FutureTask(new Callable<PlayFabResult<StartGameResponse>>() {
             public PlayFabResult<StartGameResponse> call() throws Exception {
-                return privateStartGameAsync(request);
+                return privateStartGameAsync(null, request);
             }
         });
         try {
@@ -237,10 +232,11 @@ public class PlayFabMatchmakerAPI {
 
     /** Instructs the PlayFab game server hosting service to instantiate a new Game Server Instance */
     @SuppressWarnings("unchecked")
-    private static PlayFabResult<StartGameResponse> privateStartGameAsync(final StartGameRequest request) throws Exception {
-        if (PlayFabSettings.DeveloperSecretKey == null) throw new Exception ("Must have PlayFabSettings.DeveloperSecretKey set to call this method");
+    static PlayFabResult<StartGameResponse> privateStartGameAsync(final PlayFabInstanceAPI instance, final StartGameRequest request) throws Exception {
+        final PlayFabApiContext context = PlayFabInstanceAPI.contextOf(instance);
+        if (context.getDeveloperSecretKey() == null) throw new Exception ("Must have PlayFabSettings.DeveloperSecretKey set to call this method");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Matchmaker/StartGame"), request, "X-SecretKey", PlayFabSettings.DeveloperSecretKey);
+        FutureTask<Object> task = PlayFabHTTP.doPost(context.getURL("/Matchmaker/StartGame"), request, "X-SecretKey", context.getDeveloperSecretKey(), StartGameResponse.class);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -251,9 +247,7 @@ public class PlayFabMatchmakerAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
-
-        PlayFabJsonSuccess<StartGameResponse> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<StartGameResponse>>(){}.getType());
+        PlayFabJsonSuccess<StartGameResponse> resultData = (PlayFabJsonSuccess<StartGameResponse>) httpResult;
         StartGameResponse result = resultData.data;
 
         PlayFabResult<StartGameResponse> pfResult = new PlayFabResult<StartGameResponse>();
@@ -271,7 +265,7 @@ public class PlayFabMatchmakerAPI {
     public static FutureTask<PlayFabResult<UserInfoResponse>> UserInfoAsync(final UserInfoRequest request) {
         return new FutureTask(new Callable<PlayFabResult<UserInfoResponse>>() {
             public PlayFabResult<UserInfoResponse> call() throws Exception {
-                return privateUserInfoAsync(request);
+                return privateUserInfoAsync(null, request);
             }
         });
     }
@@ -286,7 +280,7 @@ public class PlayFabMatchmakerAPI {
     public static PlayFabResult<UserInfoResponse> UserInfo(final UserInfoRequest request) {
         FutureTask<PlayFabResult<UserInfoResponse>> task = new FutureTask(new Callable<PlayFabResult<UserInfoResponse>>() {
             public PlayFabResult<UserInfoResponse> call() throws Exception {
-                return privateUserInfoAsync(request);
+                return privateUserInfoAsync(null, request);
             }
         });
         try {
@@ -304,10 +298,11 @@ public class PlayFabMatchmakerAPI {
      * effective matches
      */
     @SuppressWarnings("unchecked")
-    private static PlayFabResult<UserInfoResponse> privateUserInfoAsync(final UserInfoRequest request) throws Exception {
-        if (PlayFabSettings.DeveloperSecretKey == null) throw new Exception ("Must have PlayFabSettings.DeveloperSecretKey set to call this method");
+    static PlayFabResult<UserInfoResponse> privateUserInfoAsync(final PlayFabInstanceAPI instance, final UserInfoRequest request) throws Exception {
+        final PlayFabApiContext context = PlayFabInstanceAPI.contextOf(instance);
+        if (context.getDeveloperSecretKey() == null) throw new Exception ("Must have PlayFabSettings.DeveloperSecretKey set to call this method");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Matchmaker/UserInfo"), request, "X-SecretKey", PlayFabSettings.DeveloperSecretKey);
+        FutureTask<Object> task = PlayFabHTTP.doPost(context.getURL("/Matchmaker/UserInfo"), request, "X-SecretKey", context.getDeveloperSecretKey(), UserInfoResponse.class);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -318,9 +313,7 @@ public class PlayFabMatchmakerAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
-
-        PlayFabJsonSuccess<UserInfoResponse> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<UserInfoResponse>>(){}.getType());
+        PlayFabJsonSuccess<UserInfoResponse> resultData = (PlayFabJsonSuccess<UserInfoResponse>) httpResult;
         UserInfoResponse result = resultData.data;
 
         PlayFabResult<UserInfoResponse> pfResult = new PlayFabResult<UserInfoResponse>();
@@ -328,4 +321,84 @@ public class PlayFabMatchmakerAPI {
         return pfResult;
     }
 
+    /**
+     * @return Non-blocking versions of every PlayFabMatchmakerAPI call, started on PlayFabSettings.AsyncExecutor
+     */
+    public static Async async() {
+        return async;
+    }
+
+    /**
+     * Non-blocking versions of the PlayFabMatchmakerAPI calls. Each call is already running when its PlayFabFuture is returned.
+     */
+    public static class Async {
+        private Async() {
+        }
+
+        /**
+         * Validates a user with the PlayFab service
+         * @param request AuthUserRequest
+         * @return Running future that will complete with AuthUserResponse
+         */
+        public PlayFabFuture<PlayFabResult<AuthUserResponse>> AuthUser(final AuthUserRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<AuthUserResponse>>() {
+                public PlayFabResult<AuthUserResponse> call() throws Exception {
+                    return privateAuthUserAsync(null, request);
+                }
+            });
+        }
+
+        /**
+         * Informs the PlayFab game server hosting service that the indicated user has joined the Game Server Instance specified
+         * @param request PlayerJoinedRequest
+         * @return Running future that will complete with PlayerJoinedResponse
+         */
+        public PlayFabFuture<PlayFabResult<PlayerJoinedResponse>> PlayerJoined(final PlayerJoinedRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<PlayerJoinedResponse>>() {
+                public PlayFabResult<PlayerJoinedResponse> call() throws Exception {
+                    return privatePlayerJoinedAsync(null, request);
+                }
+            });
+        }
+
+        /**
+         * Informs the PlayFab game server hosting service that the indicated user has left the Game Server Instance specified
+         * @param request PlayerLeftRequest
+         * @return Running future that will complete with PlayerLeftResponse
+         */
+        public PlayFabFuture<PlayFabResult<PlayerLeftResponse>> PlayerLeft(final PlayerLeftRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<PlayerLeftResponse>>() {
+                public PlayFabResult<PlayerLeftResponse> call() throws Exception {
+                    return privatePlayerLeftAsync(null, request);
+                }
+            });
+        }
+
+        /**
+         * Instructs the PlayFab game server hosting service to instantiate a new Game Server Instance
+         * @param request StartGameRequest
+         * @return Running future that will complete with StartGameResponse
+         */
+        public PlayFabFuture<PlayFabResult<StartGameResponse>> StartGame(final StartGameRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<StartGameResponse>>() {
+                public PlayFabResult<StartGameResponse> call() throws Exception {
+                    return privateStartGameAsync(null, request);
+                }
+            });
+        }
+
+        /**
+         * Retrieves the relevant details for a specified user, which the external match-making service can then use to compute
+         * effective matches
+         * @param request UserInfoRequest
+         * @return Running future that will complete with UserInfoResponse
+         */
+        public PlayFabFuture<PlayFabResult<UserInfoResponse>> UserInfo(final UserInfoRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<UserInfoResponse>>() {
+                public PlayFabResult<UserInfoResponse> call() throws Exception {
+                    return privateUserInfoAsync(null, request);
+                }
+            });
+        }
+    }
 }
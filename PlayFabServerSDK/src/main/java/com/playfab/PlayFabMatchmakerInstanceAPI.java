@@ -0,0 +1,177 @@
+package com.playfab;
+
+import com.playfab.internal.*;
+import com.playfab.PlayFabMatchmakerModels.*;
+import com.playfab.PlayFabErrors.*;
+import com.playfab.PlayFabSettings;
+import java.util.concurrent.*;
+import java.util.*;
+
+    /**
+     * The calls of PlayFabMatchmakerAPI, made with a PlayFabApiContext of this object's own instead of PlayFabSettings. Login
+     * and GetEntityToken calls keep the credentials they return in that context
+     */
+public class PlayFabMatchmakerInstanceAPI extends PlayFabInstanceAPI {
+    private final Async async = new Async();
+
+    public PlayFabMatchmakerInstanceAPI(PlayFabApiContext context) {
+        super(context);
+    }
+
+    /**
+     * Validates a user with the PlayFab service
+     * @param request AuthUserRequest
+     * @return AuthUserResponse
+     */
+    public PlayFabResult<AuthUserResponse> AuthUser(final AuthUserRequest request) {
+        try {
+            return PlayFabMatchmakerAPI.privateAuthUserAsync(this, request);
+        } catch(Exception e) {
+            PlayFabResult<AuthUserResponse> exceptionResult = new PlayFabResult<AuthUserResponse>();
+            exceptionResult.Error = PlayFabHTTP.GeneratePfError(-1, PlayFabErrorCode.Unknown, e.getMessage(), null, null);
+            return exceptionResult;
+        }
+    }
+
+    /**
+     * Informs the PlayFab game server hosting service that the indicated user has joined the Game Server Instance specified
+     * @param request PlayerJoinedRequest
+     * @return PlayerJoinedResponse
+     */
+    public PlayFabResult<PlayerJoinedResponse> PlayerJoined(final PlayerJoinedRequest request) {
+        try {
+            return PlayFabMatchmakerAPI.privatePlayerJoinedAsync(this, request);
+        } catch(Exception e) {
+            PlayFabResult<PlayerJoinedResponse> exceptionResult = new PlayFabResult<PlayerJoinedResponse>();
+            exceptionResult.Error = PlayFabHTTP.GeneratePfError(-1, PlayFabErrorCode.Unknown, e.getMessage(), null, null);
+            return exceptionResult;
+        }
+    }
+
+    /**
+     * Informs the PlayFab game server hosting service that the indicated user has left the Game Server Instance specified
+     * @param request PlayerLeftRequest
+     * @return PlayerLeftResponse
+     */
+    public PlayFabResult<PlayerLeftResponse> PlayerLeft(final PlayerLeftRequest request) {
+        try {
+            return PlayFabMatchmakerAPI.privatePlayerLeftAsync(this, request);
+        } catch(Exception e) {
+            PlayFabResult<PlayerLeftResponse> exceptionResult = new PlayFabResult<PlayerLeftResponse>();
+            exceptionResult.Error = PlayFabHTTP.GeneratePfError(-1, PlayFabErrorCode.Unknown, e.getMessage(), null, null);
+            return exceptionResult;
+        }
+    }
+
+    /**
+     * Instructs the PlayFab game server hosting service to instantiate a new Game Server Instance
+     * @param request StartGameRequest
+     * @return StartGameResponse
+     */
+    public PlayFabResult<StartGameResponse> StartGame(final StartGameRequest request) {
+        try {
+            return PlayFabMatchmakerAPI.privateStartGameAsync(this, request);
+        } catch(Exception e) {
+            PlayFabResult<StartGameResponse> exceptionResult = new PlayFabResult<StartGameResponse>();
+            exceptionResult.Error = PlayFabHTTP.GeneratePfError(-1, PlayFabErrorCode.Unknown, e.getMessage(), null, null);
+            return exceptionResult;
+        }
+    }
+
+    /**
+     * Retrieves the relevant details for a specified user, which the external match-making service can then use to compute
+     * effective matches
+     * @param request UserInfoRequest
+     * @return UserInfoResponse
+     */
+    public PlayFabResult<UserInfoResponse> UserInfo(final UserInfoRequest request) {
+        try {
+            return PlayFabMatchmakerAPI.privateUserInfoAsync(this, request);
+        } catch(Exception e) {
+            PlayFabResult<UserInfoResponse> exceptionResult = new PlayFabResult<UserInfoResponse>();
+            exceptionResult.Error = PlayFabHTTP.GeneratePfError(-1, PlayFabErrorCode.Unknown, e.getMessage(), null, null);
+            return exceptionResult;
+        }
+    }
+
+    /**
+     * @return Non-blocking versions of every call, made with this object's context and started on PlayFabSettings.AsyncExecutor
+     */
+    public Async async() {
+        return async;
+    }
+
+    /**
+     * Non-blocking versions of the PlayFabMatchmakerInstanceAPI calls. Each call is already running when its PlayFabFuture is returned.
+     */
+    public class Async {
+        private Async() {
+        }
+
+        /**
+         * Validates a user with the PlayFab service
+         * @param request AuthUserRequest
+         * @return Running future that will complete with AuthUserResponse
+         */
+        public PlayFabFuture<PlayFabResult<AuthUserResponse>> AuthUser(final AuthUserRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<AuthUserResponse>>() {
+                public PlayFabResult<AuthUserResponse> call() throws Exception {
+                    return PlayFabMatchmakerAPI.privateAuthUserAsync(PlayFabMatchmakerInstanceAPI.this, request);
+                }
+            });
+        }
+
+        /**
+         * Informs the PlayFab game server hosting service that the indicated user has joined the Game Server Instance specified
+         * @param request PlayerJoinedRequest
+         * @return Running future that will complete with PlayerJoinedResponse
+         */
+        public PlayFabFuture<PlayFabResult<PlayerJoinedResponse>> PlayerJoined(final PlayerJoinedRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<PlayerJoinedResponse>>() {
+                public PlayFabResult<PlayerJoinedResponse> call() throws Exception {
+                    return PlayFabMatchmakerAPI.privatePlayerJoinedAsync(PlayFabMatchmakerInstanceAPI.this, request);
+                }
+            });
+        }
+
+        /**
+         * Informs the PlayFab game server hosting service that the indicated user has left the Game Server Instance specified
+         * @param request PlayerLeftRequest
+         * @return Running future that will complete with PlayerLeftResponse
+         */
+        public PlayFabFuture<PlayFabResult<PlayerLeftResponse>> PlayerLeft(final PlayerLeftRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<PlayerLeftResponse>>() {
+                public PlayFabResult<PlayerLeftResponse> call() throws Exception {
+                    return PlayFabMatchmakerAPI.privatePlayerLeftAsync(PlayFabMatchmakerInstanceAPI.this, request);
+                }
+            });
+        }
+
+        /**
+         * Instructs the PlayFab game server hosting service to instantiate a new Game Server Instance
+         * @param request StartGameRequest
+         * @return Running future that will complete with StartGameResponse
+         */
+        public PlayFabFuture<PlayFabResult<StartGameResponse>> StartGame(final StartGameRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<StartGameResponse>>() {
+                public PlayFabResult<StartGameResponse> call() throws Exception {
+                    return PlayFabMatchmakerAPI.privateStartGameAsync(PlayFabMatchmakerInstanceAPI.this, request);
+                }
+            });
+        }
+
+        /**
+         * Retrieves the relevant details for a specified user, which the external match-making service can then use to compute
+         * effective matches
+         * @param request UserInfoRequest
+         * @return Running future that will complete with UserInfoResponse
+         */
+        public PlayFabFuture<PlayFabResult<UserInfoResponse>> UserInfo(final UserInfoRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<UserInfoResponse>>() {
+                public PlayFabResult<UserInfoResponse> call() throws Exception {
+                    return PlayFabMatchmakerAPI.privateUserInfoAsync(PlayFabMatchmakerInstanceAPI.this, request);
+                }
+            });
+        }
+    }
+}
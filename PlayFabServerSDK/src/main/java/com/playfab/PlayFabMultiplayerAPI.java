@@ -6,12 +6,10 @@ import com.playfab.PlayFabErrors.*;
 import com.playfab.PlayFabSettings;
 import java.util.concurrent.*;
 import java.util.*;
-import com.google.gson.*;
-import com.google.gson.reflect.*;
 
     /** API methods for managing multiplayer servers. API methods for managing parties. */
 public class PlayFabMultiplayerAPI {
-    private static Gson gson = new GsonBuilder().setDateFormat("yyyy-MM-dd'T'HH:mm:ss.SSS'Z'").create();
+    private static final Async async = new Async();
 
     /**
      * Cancel all active tickets the player is a member of in a given queue.
@@ -22,7 +20,7 @@ public class PlayFabMultiplayerAPI {
     public static FutureTask<PlayFabResult<CancelAllMatchmakingTicketsForPlayerResult>> CancelAllMatchmakingTicketsForPlayerAsync(final CancelAllMatchmakingTicketsForPlayerRequest request) {
         return new FutureTask(new Callable<PlayFabResult<CancelAllMatchmakingTicketsForPlayerResult>>() {
             public PlayFabResult<CancelAllMatchmakingTicketsForPlayerResult> call() throws Exception {
-                return privateCancelAllMatchmakingTicketsForPlayerAsync(request);
+                return privateCancelAllMatchmakingTicketsForPlayerAsync(null, request);
             }
         });
     }
@@ -36,7 +34,7 @@ public class PlayFabMultiplayerAPI {
     public static PlayFabResult<CancelAllMatchmakingTicketsForPlayerResult> CancelAllMatchmakingTicketsForPlayer(final CancelAllMatchmakingTicketsForPlayerRequest request) {
         FutureTask<PlayFabResult<CancelAllMatchmakingTicketsForPlayerResult>> task = new FutureTask(new Callable<PlayFabResult<CancelAllMatchmakingTicketsForPlayerResult>>() {
             public PlayFabResult<CancelAllMatchmakingTicketsForPlayerResult> call() throws Exception {
-                return privateCancelAllMatchmakingTicketsForPlayerAsync(request);
+                return privateCancelAllMatchmakingTicketsForPlayerAsync(null, request);
             }
         });
         try {
@@ -51,10 +49,12 @@ public class PlayFabMultiplayerAPI {
 
     /** Cancel all active tickets the player is a member of in a given queue. */
     @SuppressWarnings("unchecked")
-    private static PlayFabResult<CancelAllMatchmakingTicketsForPlayerResult> privateCancelAllMatchmakingTicketsForPlayerAsync(final CancelAllMatchmakingTicketsForPlayerRequest request) throws Exception {
-        if (PlayFabSettings.EntityToken == null) throw new Exception ("Must call GetEntityToken before you can use the Entity API");
+    static PlayFabResult<CancelAllMatchmakingTicketsForPlayerResult> privateCancelAllMatchmakingTicketsForPlayerAsync(final PlayFabInstanceAPI instance, final CancelAllMatchmakingTicketsForPlayerRequest request) throws Exception {
+        final PlayFabApiContext context = PlayFabInstanceAPI.contextOf(instance);
+        final String entityToken = context.getEntityToken();
+        if (entityToken == null) throw new Exception ("Must call GetEntityToken before you can use the Entity API");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Match/CancelAllMatchmakingTicketsForPlayer"), request, "X-EntityToken", PlayFabSettings.EntityToken);
+        FutureTask<Object> task = PlayFabHTTP.doPost(context.getURL("/Match/CancelAllMatchmakingTicketsForPlayer"), request, "X-EntityToken", entityToken, CancelAllMatchmakingTicketsForPlayerResult.class);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -65,9 +65,7 @@ public class PlayFabMultiplayerAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
-
-        PlayFabJsonSuccess<CancelAllMatchmakingTicketsForPlayerResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<CancelAllMatchmakingTicketsForPlayerResult>>(){}.getType());
+        PlayFabJsonSuccess<CancelAllMatchmakingTicketsForPlayerResult> resultData = (PlayFabJsonSuccess<CancelAllMatchmakingTicketsForPlayerResult>) httpResult;
         CancelAllMatchmakingTicketsForPlayerResult result = resultData.data;
 
         PlayFabResult<CancelAllMatchmakingTicketsForPlayerResult> pfResult = new PlayFabResult<CancelAllMatchmakingTicketsForPlayerResult>();
@@ -84,7 +82,7 @@ public class PlayFabMultiplayerAPI {
     public static FutureTask<PlayFabResult<CancelAllServerBackfillTicketsForPlayerResult>> CancelAllServerBackfillTicketsForPlayerAsync(final CancelAllServerBackfillTicketsForPlayerRequest request) {
         return new FutureTask(new Callable<PlayFabResult<CancelAllServerBackfillTicketsForPlayerResult>>() {
             public PlayFabResult<CancelAllServerBackfillTicketsForPlayerResult> call() throws Exception {
-                return privateCancelAllServerBackfillTicketsForPlayerAsync(request);
+                return privateCancelAllServerBackfillTicketsForPlayerAsync(null, request);
             }
         });
     }
@@ -98,7 +96,7 @@ public class PlayFabMultiplayerAPI {
     public static PlayFabResult<CancelAllServerBackfillTicketsForPlayerResult> CancelAllServerBackfillTicketsForPlayer(final CancelAllServerBackfillTicketsForPlayerRequest request) {
         FutureTask<PlayFabResult<CancelAllServerBackfillTicketsForPlayerResult>> task = new FutureTask(new Callable<PlayFabResult<CancelAllServerBackfillTicketsForPlayerResult>>() {
             public PlayFabResult<CancelAllServerBackfillTicketsForPlayerResult> call() throws Exception {
-                return privateCancelAllServerBackfillTicketsForPlayerAsync(request);
+                return privateCancelAllServerBackfillTicketsForPlayerAsync(null, request);
             }
         });
         try {
@@ -113,10 +111,12 @@ public class PlayFabMultiplayerAPI {
 
     /** Cancel all active backfill tickets the player is a member of in a given queue. */
     @SuppressWarnings("unchecked")
-    private static PlayFabResult<CancelAllServerBackfillTicketsForPlayerResult> privateCancelAllServerBackfillTicketsForPlayerAsync(final CancelAllServerBackfillTicketsForPlayerRequest request) throws Exception {
-        if (PlayFabSettings.EntityToken == null) throw new Exception ("Must call GetEntityToken before you can use the Entity API");
+    static PlayFabResult<CancelAllServerBackfillTicketsForPlayerResult> privateCancelAllServerBackfillTicketsForPlayerAsync(final PlayFabInstanceAPI instance, final CancelAllServerBackfillTicketsForPlayerRequest request) throws Exception {
+        final PlayFabApiContext context = PlayFabInstanceAPI.contextOf(instance);
+        final String entityToken = context.getEntityToken();
+        if (entityToken == null) throw new Exception ("Must call GetEntityToken before you can use the Entity API");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Match/CancelAllServerBackfillTicketsForPlayer"), request, "X-EntityToken", PlayFabSettings.EntityToken);
+        FutureTask<Object> task = PlayFabHTTP.doPost(context.getURL("/Match/CancelAllServerBackfillTicketsForPlayer"), request, "X-EntityToken", entityToken, CancelAllServerBackfillTicketsForPlayerResult.class);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -127,9 +127,7 @@ public class PlayFabMultiplayerAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
-
-        PlayFabJsonSuccess<CancelAllServerBackfillTicketsForPlayerResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<CancelAllServerBackfillTicketsForPlayerResult>>(){}.getType());
+        PlayFabJsonSuccess<CancelAllServerBackfillTicketsForPlayerResult> resultData = (PlayFabJsonSuccess<CancelAllServerBackfillTicketsForPlayerResult>) httpResult;
         CancelAllServerBackfillTicketsForPlayerResult result = resultData.data;
 
         PlayFabResult<CancelAllServerBackfillTicketsForPlayerResult> pfResult = new PlayFabResult<CancelAllServerBackfillTicketsForPlayerResult>();
@@ -146,7 +144,7 @@ public class PlayFabMultiplayerAPI {
     public static FutureTask<PlayFabResult<CancelMatchmakingTicketResult>> CancelMatchmakingTicketAsync(final CancelMatchmakingTicketRequest request) {
         return new FutureTask(new Callable<PlayFabResult<CancelMatchmakingTicketResult>>() {
             public PlayFabResult<CancelMatchmakingTicketResult> call() throws Exception {
-                return privateCancelMatchmakingTicketAsync(request);
+                return privateCancelMatchmakingTicketAsync(null, request);
             }
         });
     }
@@ -160,7 +158,7 @@ public class PlayFabMultiplayerAPI {
     public static PlayFabResult<CancelMatchmakingTicketResult> CancelMatchmakingTicket(final CancelMatchmakingTicketRequest request) {
         FutureTask<PlayFabResult<CancelMatchmakingTicketResult>> task = new FutureTask(new Callable<PlayFabResult<CancelMatchmakingTicketResult>>() {
             public PlayFabResult<CancelMatchmakingTicketResult> call() throws Exception {
-                return privateCancelMatchmakingTicketAsync(request);
+                return privateCancelMatchmakingTicketAsync(null, request);
             }
         });
         try {
@@ -175,10 +173,12 @@ public class PlayFabMultiplayerAPI {
 
     /** Cancel a matchmaking ticket. */
     @SuppressWarnings("unchecked")
-    private static PlayFabResult<CancelMatchmakingTicketResult> privateCancelMatchmakingTicketAsync(final CancelMatchmakingTicketRequest request) throws Exception {
-        if (PlayFabSettings.EntityToken == null) throw new Exception ("Must call GetEntityToken before you can use the Entity API");
+    static PlayFabResult<CancelMatchmakingTicketResult> privateCancelMatchmakingTicketAsync(final PlayFabInstanceAPI instance, final CancelMatchmakingTicketRequest request) throws Exception {
+        final PlayFabApiContext context = PlayFabInstanceAPI.contextOf(instance);
+        final String entityToken = context.getEntityToken();
+        if (entityToken == null) throw new Exception ("Must call GetEntityToken before you can use the Entity API");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Match/CancelMatchmakingTicket"), request, "X-EntityToken", PlayFabSettings.EntityToken);
+        FutureTask<Object> task = PlayFabHTTP.doPost(context.getURL("/Match/CancelMatchmakingTicket"), request, "X-EntityToken", entityToken, CancelMatchmakingTicketResult.class);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -189,9 +189,7 @@ public class PlayFabMultiplayerAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
-
-        PlayFabJsonSuccess<CancelMatchmakingTicketResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<CancelMatchmakingTicketResult>>(){}.getType());
+        PlayFabJsonSuccess<CancelMatchmakingTicketResult> resultData = (PlayFabJsonSuccess<CancelMatchmakingTicketResult>) httpResult;
         CancelMatchmakingTicketResult result = resultData.data;
 
         PlayFabResult<CancelMatchmakingTicketResult> pfResult = new PlayFabResult<CancelMatchmakingTicketResult>();
@@ -208,7 +206,7 @@ public class PlayFabMultiplayerAPI {
     public static FutureTask<PlayFabResult<CancelServerBackfillTicketResult>> CancelServerBackfillTicketAsync(final CancelServerBackfillTicketRequest request) {
         return new FutureTask(new Callable<PlayFabResult<CancelServerBackfillTicketResult>>() {
             public PlayFabResult<CancelServerBackfillTicketResult> call() throws Exception {
-                return privateCancelServerBackfillTicketAsync(request);
+                return privateCancelServerBackfillTicketAsync(null, request);
             }
         });
     }
@@ -222,7 +220,7 @@ public class PlayFabMultiplayerAPI {
     public static PlayFabResult<CancelServerBackfillTicketResult> CancelServerBackfillTicket(final CancelServerBackfillTicketRequest request) {
         FutureTask<PlayFabResult<CancelServerBackfillTicketResult>> task = new FutureTask(new Callable<PlayFabResult<CancelServerBackfillTicketResult>>() {
             public PlayFabResult<CancelServerBackfillTicketResult> call() throws Exception {
-                return privateCancelServerBackfillTicketAsync(request);
+                return privateCancelServerBackfillTicketAsync(null, request);
             }
         });
         try {
@@ -237,10 +235,12 @@ public class PlayFabMultiplayerAPI {
 
     /** Cancel a server backfill ticket. */
     @SuppressWarnings("unchecked")
-    private static PlayFabResult<CancelServerBackfillTicketResult> privateCancelServerBackfillTicketAsync(final CancelServerBackfillTicketRequest request) throws Exception {
-        if (PlayFabSettings.EntityToken == null) throw new Exception ("Must call GetEntityToken before you can use the Entity API");
+    static PlayFabResult<CancelServerBackfillTicketResult> privateCancelServerBackfillTicketAsync(final PlayFabInstanceAPI instance, final CancelServerBackfillTicketRequest request) throws Exception {
+        final PlayFabApiContext context = PlayFabInstanceAPI.contextOf(instance);
+        final String entityToken = context.getEntityToken();
+        if (entityToken == null) throw new Exception ("Must call GetEntityToken before you can use the Entity API");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Match/CancelServerBackfillTicket"), request, "X-EntityToken", PlayFabSettings.EntityToken);
+        FutureTask<Object> task = PlayFabHTTP.doPost(context.getURL("/Match/CancelServerBackfillTicket"), request, "X-EntityToken", entityToken, CancelServerBackfillTicketResult.class);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -251,9 +251,7 @@ public class PlayFabMultiplayerAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
-
-        PlayFabJsonSuccess<CancelServerBackfillTicketResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<CancelServerBackfillTicketResult>>(){}.getType());
+        PlayFabJsonSuccess<CancelServerBackfillTicketResult> resultData = (PlayFabJsonSuccess<CancelServerBackfillTicketResult>) httpResult;
         CancelServerBackfillTicketResult result = resultData.data;
 
         PlayFabResult<CancelServerBackfillTicketResult> pfResult = new PlayFabResult<CancelServerBackfillTicketResult>();
@@ -270,7 +268,7 @@ public class PlayFabMultiplayerAPI {
     public static FutureTask<PlayFabResult<BuildAliasDetailsResponse>> CreateBuildAliasAsync(final CreateBuildAliasRequest request) {
         return new FutureTask(new Callable<PlayFabResult<BuildAliasDetailsResponse>>() {
             public PlayFabResult<BuildAliasDetailsResponse> call() throws Exception {
-                return privateCreateBuildAliasAsync(request);
+                return privateCreateBuildAliasAsync(null, request);
             }
         });
     }
@@ -284,7 +282,7 @@ public class PlayFabMultiplayerAPI {
     public static PlayFabResult<BuildAliasDetailsResponse> CreateBuildAlias(final CreateBuildAliasRequest request) {
         FutureTask<PlayFabResult<BuildAliasDetailsResponse>> task = new FutureTask(new Callable<PlayFabResult<BuildAliasDetailsResponse>>() {
             public PlayFabResult<BuildAliasDetailsResponse> call() throws Exception {
-                return privateCreateBuildAliasAsync(request);
+                return privateCreateBuildAliasAsync(null, request);
             }
         });
         try {
@@ -299,10 +297,12 @@ public class PlayFabMultiplayerAPI {
 
     /** Creates a multiplayer server build alias. */
     @SuppressWarnings("unchecked")
-    private static PlayFabResult<BuildAliasDetailsResponse> privateCreateBuildAliasAsync(final CreateBuildAliasRequest request) throws Exception {
-        if (PlayFabSettings.EntityToken == null) throw new Exception ("Must call GetEntityToken before you can use the Entity API");
+    static PlayFabResult<BuildAliasDetailsResponse> privateCreateBuildAliasAsync(final PlayFabInstanceAPI instance, final CreateBuildAliasRequest request) throws Exception {
+        final PlayFabApiContext context = PlayFabInstanceAPI.contextOf(instance);
+        final String entityToken = context.getEntityToken();
+        if (entityToken == null) throw new Exception ("Must call GetEntityToken before you can use the Entity API");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/MultiplayerServer/CreateBuildAlias"), request, "X-EntityToken", PlayFabSettings.EntityToken);
+        FutureTask<Object> task = PlayFabHTTP.doPost(context.getURL("/MultiplayerServer/CreateBuildAlias"), request, "X-EntityToken", entityToken, BuildAliasDetailsResponse.class);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -313,9 +313,7 @@ public class PlayFabMultiplayerAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
-
-        PlayFabJsonSuccess<BuildAliasDetailsResponse> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<BuildAliasDetailsResponse>>(){}.getType());
+        PlayFabJsonSuccess<BuildAliasDetailsResponse> resultData = (PlayFabJsonSuccess<BuildAliasDetailsResponse>) httpResult;
         BuildAliasDetailsResponse result = resultData.data;
 
         PlayFabResult<BuildAliasDetailsResponse> pfResult = new PlayFabResult<BuildAliasDetailsResponse>();
@@ -332,7 +330,7 @@ public class PlayFabMultiplayerAPI {
     public static FutureTask<PlayFabResult<CreateBuildWithCustomContainerResponse>> CreateBuildWithCustomContainerAsync(final CreateBuildWithCustomContainerRequest request) {
         return new FutureTask(new Callable<PlayFabResult<CreateBuildWithCustomContainerResponse>>() {
             public PlayFabResult<CreateBuildWithCustomContainerResponse> call() throws Exception {
-                return privateCreateBuildWithCustomContainerAsync(request);
+                return privateCreateBuildWithCustomContainerAsync(null, request);
             }
         });
     }
@@ -346,7 +344,7 @@ public class PlayFabMultiplayerAPI {
     public static PlayFabResult<CreateBuildWithCustomContainerResponse> CreateBuildWithCustomContainer(final CreateBuildWithCustomContainerRequest request) {
         FutureTask<PlayFabResult<CreateBuildWithCustomContainerResponse>> task = new FutureTask(new Callable<PlayFabResult<CreateBuildWithCustomContainerResponse>>() {
             public PlayFabResult<CreateBuildWithCustomContainerResponse> call() throws Exception {
-                return privateCreateBuildWithCustomContainerAsync(request);
+                return privateCreateBuildWithCustomContainerAsync(null, request);
             }
         });
         try {
@@ -361,10 +359,12 @@ public class PlayFabMultiplayerAPI {
 
     /** Creates a multiplayer server build with a custom container. */
     @SuppressWarnings("unchecked")
-    private static PlayFabResult<CreateBuildWithCustomContainerResponse> privateCreateBuildWithCustomContainerAsync(final CreateBuildWithCustomContainerRequest request) throws Exception {
-        if (PlayFabSettings.EntityToken == null) throw new Exception ("Must call GetEntityToken before you can use the Entity API");
+    static PlayFabResult<CreateBuildWithCustomContainerResponse> privateCreateBuildWithCustomContainerAsync(final PlayFabInstanceAPI instance, final CreateBuildWithCustomContainerRequest request) throws Exception {
+        final PlayFabApiContext context = PlayFabInstanceAPI.contextOf(instance);
+        final String entityToken = context.getEntityToken();
+        if (entityToken == null) throw new Exception ("Must call GetEntityToken before you can use the Entity API");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/MultiplayerServer/CreateBuildWithCustomContainer"), request, "X-EntityToken", PlayFabSettings.EntityToken);
+        FutureTask<Object> task = PlayFabHTTP.doPost(context.getURL("/MultiplayerServer/CreateBuildWithCustomContainer"), request, "X-EntityToken", entityToken, CreateBuildWithCustomContainerResponse.class);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -375,9 +375,7 @@ public class PlayFabMultiplayerAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
-
-        PlayFabJsonSuccess<CreateBuildWithCustomContainerResponse> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<CreateBuildWithCustomContainerResponse>>(){}.getType());
+        PlayFabJsonSuccess<CreateBuildWithCustomContainerResponse> resultData = (PlayFabJsonSuccess<CreateBuildWithCustomContainerResponse>) httpResult;
         CreateBuildWithCustomContainerResponse result = resultData.data;
 
         PlayFabResult<CreateBuildWithCustomContainerResponse> pfResult = new PlayFabResult<CreateBuildWithCustomContainerResponse>();
@@ -394,7 +392,7 @@ public class PlayFabMultiplayerAPI {
     public static FutureTask<PlayFabResult<CreateBuildWithManagedContainerResponse>> CreateBuildWithManagedContainerAsync(final CreateBuildWithManagedContainerRequest request) {
         return new FutureTask(new Callable<PlayFabResult<CreateBuildWithManagedContainerResponse>>() {
             public PlayFabResult<CreateBuildWithManagedContainerResponse> call() throws Exception {
-                return privateCreateBuildWithManagedContainerAsync(request);
+                return privateCreateBuildWithManagedContainerAsync(null, request);
             }
         });
     }
@@ -408,7 +406,7 @@ public class PlayFabMultiplayerAPI {
     public static PlayFabResult<CreateBuildWithManagedContainerResponse> CreateBuildWithManagedContainer(final CreateBuildWithManagedContainerRequest request) {
         FutureTask<PlayFabResult<CreateBuildWithManagedContainerResponse>> task = new FutureTask(new Callable<PlayFabResult<CreateBuildWithManagedContainerResponse>>() {
             public PlayFabResult<CreateBuildWithManagedContainerResponse> call() throws Exception {
-                return privateCreateBuildWithManagedContainerAsync(request);
+                return privateCreateBuildWithManagedContainerAsync(null, request);
             }
         });
         try {
@@ -423,10 +421,12 @@ public class PlayFabMultiplayerAPI {
 
     /** Creates a multiplayer server build with a managed container. */
     @SuppressWarnings("unchecked")
-    private static PlayFabResult<CreateBuildWithManagedContainerResponse> privateCreateBuildWithManagedContainerAsync(final CreateBuildWithManagedContainerRequest request) throws Exception {
-        if (PlayFabSettings.EntityToken == null) throw new Exception ("Must call GetEntityToken before you can use the Entity API");
+    static PlayFabResult<CreateBuildWithManagedContainerResponse> privateCreateBuildWithManagedContainerAsync(final PlayFabInstanceAPI instance, final CreateBuildWithManagedContainerRequest request) throws Exception {
+        final PlayFabApiContext context = PlayFabInstanceAPI.contextOf(instance);
+        final String entityToken = context.getEntityToken();
+        if (entityToken == null) throw new Exception ("Must call GetEntityToken before you can use the Entity API");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/MultiplayerServer/CreateBuildWithManagedContainer"), request, "X-EntityToken", PlayFabSettings.EntityToken);
+        FutureTask<Object> task = PlayFabHTTP.doPost(context.getURL("/MultiplayerServer/CreateBuildWithManagedContainer"), request, "X-EntityToken", entityToken, CreateBuildWithManagedContainerResponse.class);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -437,9 +437,7 @@ public class PlayFabMultiplayerAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
-
-        PlayFabJsonSuccess<CreateBuildWithManagedContainerResponse> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<CreateBuildWithManagedContainerResponse>>(){}.getType());
+        PlayFabJsonSuccess<CreateBuildWithManagedContainerResponse> resultData = (PlayFabJsonSuccess<CreateBuildWithManagedContainerResponse>) httpResult;
         CreateBuildWithManagedContainerResponse result = resultData.data;
 
         PlayFabResult<CreateBuildWithManagedContainerResponse> pfResult = new PlayFabResult<CreateBuildWithManagedContainerResponse>();
@@ -456,7 +454,7 @@ public class PlayFabMultiplayerAPI {
     public static FutureTask<PlayFabResult<CreateBuildWithProcessBasedServerResponse>> CreateBuildWithProcessBasedServerAsync(final CreateBuildWithProcessBasedServerRequest request) {
         return new FutureTask(new Callable<PlayFabResult<CreateBuildWithProcessBasedServerResponse>>() {
             public PlayFabResult<CreateBuildWithProcessBasedServerResponse> call() throws Exception {
-                return privateCreateBuildWithProcessBasedServerAsync(request);
+                return privateCreateBuildWithProcessBasedServerAsync(null, request);
             }
         });
     }
@@ -470,7 +468,7 @@ public class PlayFabMultiplayerAPI {
     public static PlayFabResult<CreateBuildWithProcessBasedServerResponse> CreateBuildWithProcessBasedServer(final CreateBuildWithProcessBasedServerRequest request) {
         FutureTask<PlayFabResult<CreateBuildWithProcessBasedServerResponse>> task = new FutureTask(new Callable<PlayFabResult<CreateBuildWithProcessBasedServerResponse>>() {
             public PlayFabResult<CreateBuildWithProcessBasedServerResponse> call() throws Exception {
-                return privateCreateBuildWithProcessBasedServerAsync(request);
+                return privateCreateBuildWithProcessBasedServerAsync(null, request);
             }
         });
         try {
@@ -485,10 +483,12 @@ public class PlayFabMultiplayerAPI {
 
     /** Creates a multiplayer server build with the server running as a process. */
     @SuppressWarnings("unchecked")
-    private static PlayFabResult<CreateBuildWithProcessBasedServerResponse> privateCreateBuildWithProcessBasedServerAsync(final CreateBuildWithProcessBasedServerRequest request) throws Exception {
-        if (PlayFabSettings.EntityToken == null) throw new Exception ("Must call GetEntityToken before you can use the Entity API");
+    static PlayFabResult<CreateBuildWithProcessBasedServerResponse> privateCreateBuildWithProcessBasedServerAsync(final PlayFabInstanceAPI instance, final CreateBuildWithProcessBasedServerRequest request) throws Exception {
+        final PlayFabApiContext context = PlayFabInstanceAPI.contextOf(instance);
+        final String entityToken = context.getEntityToken();
+        if (entityToken == null) throw new Exception ("Must call GetEntityToken before you can use the Entity API");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/MultiplayerServer/CreateBuildWithProcessBasedServer"), request, "X-EntityToken", PlayFabSettings.EntityToken);
+        FutureTask<Object> task = PlayFabHTTP.doPost(context.getURL("/MultiplayerServer/CreateBuildWithProcessBasedServer"), request, "X-EntityToken", entityToken, CreateBuildWithProcessBasedServerResponse.class);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -499,9 +499,7 @@ public class PlayFabMultiplayerAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
-
-        PlayFabJsonSuccess<CreateBuildWithProcessBasedServerResponse> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<CreateBuildWithProcessBasedServerResponse>>(){}.getType());
+        PlayFabJsonSuccess<CreateBuildWithProcessBasedServerResponse> resultData = (PlayFabJsonSuccess<CreateBuildWithProcessBasedServerResponse>) httpResult;
         CreateBuildWithProcessBasedServerResponse result = resultData.data;
 
         PlayFabResult<CreateBuildWithProcessBasedServerResponse> pfResult = new PlayFabResult<CreateBuildWithProcessBasedServerResponse>();
@@ -518,7 +516,7 @@ public class PlayFabMultiplayerAPI {
     public static FutureTask<PlayFabResult<CreateMatchmakingTicketResult>> CreateMatchmakingTicketAsync(final CreateMatchmakingTicketRequest request) {
         return new FutureTask(new Callable<PlayFabResult<CreateMatchmakingTicketResult>>() {
             public PlayFabResult<CreateMatchmakingTicketResult> call() throws Exception {
-                return privateCreateMatchmakingTicketAsync(request);
+                return privateCreateMatchmakingTicketAsync(null, request);
             }
         });
     }
@@ -532,7 +530,7 @@ public class PlayFabMultiplayerAPI {
     public static PlayFabResult<CreateMatchmakingTicketResult> CreateMatchmakingTicket(final CreateMatchmakingTicketRequest request) {
         FutureTask<PlayFabResult<CreateMatchmakingTicketResult>> task = new FutureTask(new Callable<PlayFabResult<CreateMatchmakingTicketResult>>() {
             public PlayFabResult<CreateMatchmakingTicketResult> call() throws Exception {
-                return privateCreateMatchmakingTicketAsync(request);
+                return privateCreateMatchmakingTicketAsync(null, request);
             }
         });
         try {
@@ -547,10 +545,12 @@ public class PlayFabMultiplayerAPI {
 
     /** Create a matchmaking ticket as a client. */
     @SuppressWarnings("unchecked")
-    private static PlayFabResult<CreateMatchmakingTicketResult> privateCreateMatchmakingTicketAsync(final CreateMatchmakingTicketRequest request) throws Exception {
-        if (PlayFabSettings.EntityToken == null) throw new Exception ("Must call GetEntityToken before you can use the Entity API");
+    static PlayFabResult<CreateMatchmakingTicketResult> privateCreateMatchmakingTicketAsync(final PlayFabInstanceAPI instance, final CreateMatchmakingTicketRequest request) throws Exception {
+        final PlayFabApiContext context = PlayFabInstanceAPI.contextOf(instance);
+        final String entityToken = context.getEntityToken();
+        if (entityToken == null) throw new Exception ("Must call GetEntityToken before you can use the Entity API");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Match/CreateMatchmakingTicket"), request, "X-EntityToken", PlayFabSettings.EntityToken);
+        FutureTask<Object> task = PlayFabHTTP.doPost(context.getURL("/Match/CreateMatchmakingTicket"), request, "X-EntityToken", entityToken, CreateMatchmakingTicketResult.class);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -561,9 +561,7 @@ public class PlayFabMultiplayerAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
-
-        PlayFabJsonSuccess<CreateMatchmakingTicketResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<CreateMatchmakingTicketResult>>(){}.getType());
+        PlayFabJsonSuccess<CreateMatchmakingTicketResult> resultData = (PlayFabJsonSuccess<CreateMatchmakingTicketResult>) httpResult;
         CreateMatchmakingTicketResult result = resultData.data;
 
         PlayFabResult<CreateMatchmakingTicketResult> pfResult = new PlayFabResult<CreateMatchmakingTicketResult>();
@@ -580,7 +578,7 @@ public class PlayFabMultiplayerAPI {
     public static FutureTask<PlayFabResult<CreateRemoteUserResponse>> CreateRemoteUserAsync(final CreateRemoteUserRequest request) {
         return new FutureTask(new Callable<PlayFabResult<CreateRemoteUserResponse>>() {
             public PlayFabResult<CreateRemoteUserResponse> call() throws Exception {
-                return privateCreateRemoteUserAsync(request);
+                return privateCreateRemoteUserAsync(null, request);
             }
         });
     }
@@ -594,7 +592,7 @@ public class PlayFabMultiplayerAPI {
     public static PlayFabResult<CreateRemoteUserResponse> CreateRemoteUser(final CreateRemoteUserRequest request) {
         FutureTask<PlayFabResult<CreateRemoteUserResponse>> task = new FutureTask(new Callable<PlayFabResult<CreateRemoteUserResponse>>() {
             public PlayFabResult<CreateRemoteUserResponse> call() throws Exception {
-                return privateCreateRemoteUserAsync(request);
+                return privateCreateRemoteUserAsync(null, request);
             }
         });
         try {
@@ -609,10 +607,12 @@ public class PlayFabMultiplayerAPI {
 
     /** Creates a remote user to log on to a VM for a multiplayer server build. */
     @SuppressWarnings("unchecked")
-    private static PlayFabResult<CreateRemoteUserResponse> privateCreateRemoteUserAsync(final CreateRemoteUserRequest request) throws Exception {
-        if (PlayFabSettings.EntityToken == null) throw new Exception ("Must call GetEntityToken before you can use the Entity API");
+    static PlayFabResult<CreateRemoteUserResponse> privateCreateRemoteUserAsync(final PlayFabInstanceAPI instance, final CreateRemoteUserRequest request) throws Exception {
+        final PlayFabApiContext context = PlayFabInstanceAPI.contextOf(instance);
+        final String entityToken = context.getEntityToken();
+        if (entityToken == null) throw new Exception ("Must call GetEntityToken before you can use the Entity API");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/MultiplayerServer/CreateRemoteUser"), request, "X-EntityToken", PlayFabSettings.EntityToken);
+        FutureTask<Object> task = PlayFabHTTP.doPost(context.getURL("/MultiplayerServer/CreateRemoteUser"), request, "X-EntityToken", entityToken, CreateRemoteUserResponse.class);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -623,9 +623,7 @@ public class PlayFabMultiplayerAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
-
-        PlayFabJsonSuccess<CreateRemoteUserResponse> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<CreateRemoteUserResponse>>(){}.getType());
+        PlayFabJsonSuccess<CreateRemoteUserResponse> resultData = (PlayFabJsonSuccess<CreateRemoteUserResponse>) httpResult;
         CreateRemoteUserResponse result = resultData.data;
 
         PlayFabResult<CreateRemoteUserResponse> pfResult = new PlayFabResult<CreateRemoteUserResponse>();
@@ -644,7 +642,7 @@ public class PlayFabMultiplayerAPI {
     public static FutureTask<PlayFabResult<CreateServerBackfillTicketResult>> CreateServerBackfillTicketAsync(final CreateServerBackfillTicketRequest request) {
         return new FutureTask(new Callable<PlayFabResult<CreateServerBackfillTicketResult>>() {
             public PlayFabResult<CreateServerBackfillTicketResult> call() throws Exception {
-                return privateCreateServerBackfillTicketAsync(request);
+                return privateCreateServerBackfillTicketAsync(null, request);
             }
         });
     }
@@ -660,7 +658,7 @@ public class PlayFabMultiplayerAPI {
     public static PlayFabResult<CreateServerBackfillTicketResult> CreateServerBackfillTicket(final CreateServerBackfillTicketRequest request) {
         FutureTask<PlayFabResult<CreateServerBackfillTicketResult>> task = new FutureTask(new Callable<PlayFabResult<CreateServerBackfillTicketResult>>() {
             public PlayFabResult<CreateServerBackfillTicketResult> call() throws Exception {
-                return privateCreateServerBackfillTicketAsync(request);
+                return privateCreateServerBackfillTicketAsync(null, request);
             }
         });
         try {
@@ -679,10 +677,12 @@ public class PlayFabMultiplayerAPI {
      * other backfill tickets.
      */
     @SuppressWarnings("unchecked")
-    private static PlayFabResult<CreateServerBackfillTicketResult> privateCreateServerBackfillTicketAsync(final CreateServerBackfillTicketRequest request) throws Exception {
-        if (PlayFabSettings.EntityToken == null) throw new Exception ("Must call GetEntityToken before you can use the Entity API");
+    static PlayFabResult<CreateServerBackfillTicketResult> privateCreateServerBackfillTicketAsync(final PlayFabInstanceAPI instance, final CreateServerBackfillTicketRequest request) throws Exception {
+        final PlayFabApiContext context = PlayFabInstanceAPI.contextOf(instance);
+        final String entityToken = context.getEntityToken();
+        if (entityToken == null) throw new Exception ("Must call GetEntityToken before you can use the Entity API");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Match/CreateServerBackfillTicket"), request, "X-EntityToken", PlayFabSettings.EntityToken);
+        FutureTask<Object> task = PlayFabHTTP.doPost(context.getURL("/Match/CreateServerBackfillTicket"), request, "X-EntityToken", entityToken, CreateServerBackfillTicketResult.class);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -693,9 +693,7 @@ public class PlayFabMultiplayerAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
-
-        PlayFabJsonSuccess<CreateServerBackfillTicketResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<CreateServerBackfillTicketResult>>(){}.getType());
+        PlayFabJsonSuccess<CreateServerBackfillTicketResult> resultData = (PlayFabJsonSuccess<CreateServerBackfillTicketResult>) httpResult;
         CreateServerBackfillTicketResult result = resultData.data;
 
         PlayFabResult<CreateServerBackfillTicketResult> pfResult = new PlayFabResult<CreateServerBackfillTicketResult>();
@@ -713,7 +711,7 @@ public class PlayFabMultiplayerAPI {
     public static FutureTask<PlayFabResult<CreateMatchmakingTicketResult>> CreateServerMatchmakingTicketAsync(final CreateServerMatchmakingTicketRequest request) {
         return new FutureTask(new Callable<PlayFabResult<CreateMatchmakingTicketResult>>() {
             public PlayFabResult<CreateMatchmakingTicketResult> call() throws Exception {
-                return privateCreateServerMatchmakingTicketAsync(request);
+                return privateCreateServerMatchmakingTicketAsync(null, request);
             }
         });
     }
@@ -728,7 +726,7 @@ public class PlayFabMultiplayerAPI {
     public static PlayFabResult<CreateMatchmakingTicketResult> CreateServerMatchmakingTicket(final CreateServerMatchmakingTicketRequest request) {
         FutureTask<PlayFabResult<CreateMatchmakingTicketResult>> task = new FutureTask(new Callable<PlayFabResult<CreateMatchmakingTicketResult>>() {
             public PlayFabResult<CreateMatchmakingTicketResult> call() throws Exception {
-                return privateCreateServerMatchmakingTicketAsync(request);
+                return privateCreateServerMatchmakingTicketAsync(null, request);
             }
         });
         try {
@@ -746,10 +744,12 @@ public class PlayFabMultiplayerAPI {
      * matchmaking tickets.
      */
     @SuppressWarnings("unchecked")
-    private static PlayFabResult<CreateMatchmakingTicketResult> privateCreateServerMatchmakingTicketAsync(final CreateServerMatchmakingTicketRequest request) throws Exception {
-        if (PlayFabSettings.EntityToken == null) throw new Exception ("Must call GetEntityToken before you can use the Entity API");
+    static PlayFabResult<CreateMatchmakingTicketResult> privateCreateServerMatchmakingTicketAsync(final PlayFabInstanceAPI instance, final CreateServerMatchmakingTicketRequest request) throws Exception {
+        final PlayFabApiContext context = PlayFabInstanceAPI.contextOf(instance);
+        final String entityToken = context.getEntityToken();
+        if (entityToken == null) throw new Exception ("Must call GetEntityToken before you can use the Entity API");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Match/CreateServerMatchmakingTicket"), request, "X-EntityToken", PlayFabSettings.EntityToken);
+        FutureTask<Object> task = PlayFabHTTP.doPost(context.getURL("/Match/CreateServerMatchmakingTicket"), request, "X-EntityToken", entityToken, CreateMatchmakingTicketResult.class);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -760,9 +760,7 @@ public class PlayFabMultiplayerAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
-
-        PlayFabJsonSuccess<CreateMatchmakingTicketResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<CreateMatchmakingTicketResult>>(){}.getType());
+        PlayFabJsonSuccess<CreateMatchmakingTicketResult> resultData = (PlayFabJsonSuccess<CreateMatchmakingTicketResult>) httpResult;
         CreateMatchmakingTicketResult result = resultData.data;
 
         PlayFabResult<CreateMatchmakingTicketResult> pfResult = new PlayFabResult<CreateMatchmakingTicketResult>();
@@ -779,7 +777,7 @@ public class PlayFabMultiplayerAPI {
     public static FutureTask<PlayFabResult<CreateTitleMultiplayerServersQuotaChangeResponse>> CreateTitleMultiplayerServersQuotaChangeAsync(final CreateTitleMultiplayerServersQuotaChangeRequest request) {
         return new FutureTask(new Callable<PlayFabResult<CreateTitleMultiplayerServersQuotaChangeResponse>>() {
             public PlayFabResult<CreateTitleMultiplayerServersQuotaChangeResponse> call() throws Exception {
-                return privateCreateTitleMultiplayerServersQuotaChangeAsync(request);
+                return privateCreateTitleMultiplayerServersQuotaChangeAsync(null, request);
             }
         });
     }
@@ -793,7 +791,7 @@ public class PlayFabMultiplayerAPI {
     public static PlayFabResult<CreateTitleMultiplayerServersQuotaChangeResponse> CreateTitleMultiplayerServersQuotaChange(final CreateTitleMultiplayerServersQuotaChangeRequest request) {
         FutureTask<PlayFabResult<CreateTitleMultiplayerServersQuotaChangeResponse>> task = new FutureTask(new Callable<PlayFabResult<CreateTitleMultiplayerServersQuotaChangeResponse>>() {
             public PlayFabResult<CreateTitleMultiplayerServersQuotaChangeResponse> call() throws Exception {
-                return privateCreateTitleMultiplayerServersQuotaChangeAsync(request);
+                return privateCreateTitleMultiplayerServersQuotaChangeAsync(null, request);
             }
         });
         try {
@@ -808,10 +806,12 @@ public class PlayFabMultiplayerAPI {
 
     /** Creates a request to change a title's multiplayer server quotas. */
     @SuppressWarnings("unchecked")
-    private static PlayFabResult<CreateTitleMultiplayerServersQuotaChangeResponse> privateCreateTitleMultiplayerServersQuotaChangeAsync(final CreateTitleMultiplayerServersQuotaChangeRequest request) throws Exception {
-        if (PlayFabSettings.EntityToken == null) throw new Exception ("Must call GetEntityToken before you can use the Entity API");
+    static PlayFabResult<CreateTitleMultiplayerServersQuotaChangeResponse> privateCreateTitleMultiplayerServersQuotaChangeAsync(final PlayFabInstanceAPI instance, final CreateTitleMultiplayerServersQuotaChangeRequest request) throws Exception {
+        final PlayFabApiContext context = PlayFabInstanceAPI.contextOf(instance);
+        final String entityToken = context.getEntityToken();
+        if (entityToken == null) throw new Exception ("Must call GetEntityToken before you can use the Entity API");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/MultiplayerServer/CreateTitleMultiplayerServersQuotaChange"), request, "X-EntityToken", PlayFabSettings.EntityToken);
+        FutureTask<Object> task = PlayFabHTTP.doPost(context.getURL("/MultiplayerServer/CreateTitleMultiplayerServersQuotaChange"), request, "X-EntityToken", entityToken, CreateTitleMultiplayerServersQuotaChangeResponse.class);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -822,9 +822,7 @@ public class PlayFabMultiplayerAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
-
-        PlayFabJsonSuccess<CreateTitleMultiplayerServersQuotaChangeResponse> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<CreateTitleMultiplayerServersQuotaChangeResponse>>(){}.getType());
+        PlayFabJsonSuccess<CreateTitleMultiplayerServersQuotaChangeResponse> resultData = (PlayFabJsonSuccess<CreateTitleMultiplayerServersQuotaChangeResponse>) httpResult;
         CreateTitleMultiplayerServersQuotaChangeResponse result = resultData.data;
 
         PlayFabResult<CreateTitleMultiplayerServersQuotaChangeResponse> pfResult = new PlayFabResult<CreateTitleMultiplayerServersQuotaChangeResponse>();
@@ -841,7 +839,7 @@ public class PlayFabMultiplayerAPI {
     public static FutureTask<PlayFabResult<EmptyResponse>> DeleteAssetAsync(final DeleteAssetRequest request) {
         return new FutureTask(new Callable<PlayFabResult<EmptyResponse>>() {
             public PlayFabResult<EmptyResponse> call() throws Exception {
-                return privateDeleteAssetAsync(request);
+                return privateDeleteAssetAsync(null, request);
             }
         });
     }
@@ -855,7 +853,7 @@ public class PlayFabMultiplayerAPI {
     public static PlayFabResult<EmptyResponse> DeleteAsset(final DeleteAssetRequest request) {
         FutureTask<PlayFabResult<EmptyResponse>> task = new FutureTask(new Callable<PlayFabResult<EmptyResponse>>() {
             public PlayFabResult<EmptyResponse> call() throws Exception {
-                return privateDeleteAssetAsync(request);
+                return privateDeleteAssetAsync(null, request);
             }
         });
         try {
@@ -870,10 +868,12 @@ public class PlayFabMultiplayerAPI {
 
     /** Deletes a multiplayer server game asset for a title. */
     @SuppressWarnings("unchecked")
-    private static PlayFabResult<EmptyResponse> privateDeleteAssetAsync(final DeleteAssetRequest request) throws Exception {
-        if (PlayFabSettings.EntityToken == null) throw new Exception ("Must call GetEntityToken before you can use the Entity API");
+    static PlayFabResult<EmptyResponse> privateDeleteAssetAsync(final PlayFabInstanceAPI instance, final DeleteAssetRequest request) throws Exception {
+        final PlayFabApiContext context = PlayFabInstanceAPI.contextOf(instance);
+        final String entityToken = context.getEntityToken();
+        if (entityToken == null) throw new Exception ("Must call GetEntityToken before you can use the Entity API");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/MultiplayerServer/DeleteAsset"), request, "X-EntityToken", PlayFabSettings.EntityToken);
+        FutureTask<Object> task = PlayFabHTTP.doPost(context.getURL("/MultiplayerServer/DeleteAsset"), request, "X-EntityToken", entityToken, EmptyResponse.class);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -884,9 +884,7 @@ public class PlayFabMultiplayerAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
-
-        PlayFabJsonSuccess<EmptyResponse> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<EmptyResponse>>(){}.getType());
+        PlayFabJsonSuccess<EmptyResponse> resultData = (PlayFabJsonSuccess<EmptyResponse>) httpResult;
         EmptyResponse result = resultData.data;
 
         PlayFabResult<EmptyResponse> pfResult = new PlayFabResult<EmptyResponse>();
@@ -903,7 +901,7 @@ public class PlayFabMultiplayerAPI {
     public static FutureTask<PlayFabResult<EmptyResponse>> DeleteBuildAsync(final DeleteBuildRequest request) {
         return new FutureTask(new Callable<PlayFabResult<EmptyResponse>>() {
             public PlayFabResult<EmptyResponse> call() throws Exception {
-                return privateDeleteBuildAsync(request);
+                return privateDeleteBuildAsync(null, request);
             }
         });
     }
@@ -917,7 +915,7 @@ public class PlayFabMultiplayerAPI {
     public static PlayFabResult<EmptyResponse> DeleteBuild(final DeleteBuildRequest request) {
         FutureTask<PlayFabResult<EmptyResponse>> task = new FutureTask(new Callable<PlayFabResult<EmptyResponse>>() {
             public PlayFabResult<EmptyResponse> call() throws Exception {
-                return privateDeleteBuildAsync(request);
+                return privateDeleteBuildAsync(null, request);
             }
         });
         try {
@@ -932,10 +930,12 @@ public class PlayFabMultiplayerAPI {
 
     /** Deletes a multiplayer server build. */
     @SuppressWarnings("unchecked")
-    private static PlayFabResult<EmptyResponse> privateDeleteBuildAsync(final DeleteBuildRequest request) throws Exception {
-        if (PlayFabSettings.EntityToken == null) throw new Exception ("Must call GetEntityToken before you can use the Entity API");
+    static PlayFabResult<EmptyResponse> privateDeleteBuildAsync(final PlayFabInstanceAPI instance, final DeleteBuildRequest request) throws Exception {
+        final PlayFabApiContext context = PlayFabInstanceAPI.contextOf(instance);
+        final String entityToken = context.getEntityToken();
+        if (entityToken == null) throw new Exception ("Must call GetEntityToken before you can use the Entity API");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/MultiplayerServer/DeleteBuild"), request, "X-EntityToken", PlayFabSettings.EntityToken);
+        FutureTask<Object> task = PlayFabHTTP.doPost(context.getURL("/MultiplayerServer/DeleteBuild"), request, "X-EntityToken", entityToken, EmptyResponse.class);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -946,9 +946,7 @@ public class PlayFabMultiplayerAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
-
-        PlayFabJsonSuccess<EmptyResponse> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<EmptyResponse>>(){}.getType());
+        PlayFabJsonSuccess<EmptyResponse> resultData = (PlayFabJsonSuccess<EmptyResponse>) httpResult;
         EmptyResponse result = resultData.data;
 
         PlayFabResult<EmptyResponse> pfResult = new PlayFabResult<EmptyResponse>();
@@ -965,7 +963,7 @@ public class PlayFabMultiplayerAPI {
     public static FutureTask<PlayFabResult<EmptyResponse>> DeleteBuildAliasAsync(final DeleteBuildAliasRequest request) {
         return new FutureTask(new Callable<PlayFabResult<EmptyResponse>>() {
             public PlayFabResult<EmptyResponse> call() throws Exception {
-                return privateDeleteBuildAliasAsync(request);
+                return privateDeleteBuildAliasAsync(null, request);
             }
         });
     }
@@ -979,7 +977,7 @@ public class PlayFabMultiplayerAPI {
     public static PlayFabResult<EmptyResponse> DeleteBuildAlias(final DeleteBuildAliasRequest request) {
         FutureTask<PlayFabResult<EmptyResponse>> task = new FutureTask(new Callable<PlayFabResult<EmptyResponse>>() {
             public PlayFabResult<EmptyResponse> call() throws Exception {
-                return privateDeleteBuildAliasAsync(request);
+                return privateDeleteBuildAliasAsync(null, request);
             }
         });
         try {
@@ -994,10 +992,12 @@ public class PlayFabMultiplayerAPI {
 
     /** Deletes a multiplayer server build alias. */
     @SuppressWarnings("unchecked")
-    private static PlayFabResult<EmptyResponse> privateDeleteBuildAliasAsync(final DeleteBuildAliasRequest request) throws Exception {
-        if (PlayFabSettings.EntityToken == null) throw new Exception ("Must call GetEntityToken before you can use the Entity API");
+    static PlayFabResult<EmptyResponse> privateDeleteBuildAliasAsync(final PlayFabInstanceAPI instance, final DeleteBuildAliasRequest request) throws Exception {
+        final PlayFabApiContext context = PlayFabInstanceAPI.contextOf(instance);
+        final String entityToken = context.getEntityToken();
+        if (entityToken == null) throw new Exception ("Must call GetEntityToken before you can use the Entity API");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/MultiplayerServer/DeleteBuildAlias"), request, "X-EntityToken", PlayFabSettings.EntityToken);
+        FutureTask<Object> task = PlayFabHTTP.doPost(context.getURL("/MultiplayerServer/DeleteBuildAlias"), request, "X-EntityToken", entityToken, EmptyResponse.class);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -1008,9 +1008,7 @@ public class PlayFabMultiplayerAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
-
-        PlayFabJsonSuccess<EmptyResponse> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<EmptyResponse>>(){}.getType());
+        PlayFabJsonSuccess<EmptyResponse> resultData = (PlayFabJsonSuccess<EmptyResponse>) httpResult;
         EmptyResponse result = resultData.data;
 
         PlayFabResult<EmptyResponse> pfResult = new PlayFabResult<EmptyResponse>();
@@ -1027,7 +1025,7 @@ public class PlayFabMultiplayerAPI {
     public static FutureTask<PlayFabResult<EmptyResponse>> DeleteBuildRegionAsync(final DeleteBuildRegionRequest request) {
         return new FutureTask(new Callable<PlayFabResult<EmptyResponse>>() {
             public PlayFabResult<EmptyResponse> call() throws Exception {
-                return privateDeleteBuildRegionAsync(request);
+                return privateDeleteBuildRegionAsync(null, request);
             }
         });
     }
@@ -1041,7 +1039,7 @@ public class PlayFabMultiplayerAPI {
     public static PlayFabResult<EmptyResponse> DeleteBuildRegion(final DeleteBuildRegionRequest request) {
         FutureTask<PlayFabResult<EmptyResponse>> task = new FutureTask(new Callable<PlayFabResult<EmptyResponse>>() {
             public PlayFabResult<EmptyResponse> call() throws Exception {
-                return privateDeleteBuildRegionAsync(request);
+                return privateDeleteBuildRegionAsync(null, request);
             }
         });
         try {
@@ -1056,10 +1054,12 @@ public class PlayFabMultiplayerAPI {
 
     /** Removes a multiplayer server build's region. */
     @SuppressWarnings("unchecked")
-    private static PlayFabResult<EmptyResponse> privateDeleteBuildRegionAsync(final DeleteBuildRegionRequest request) throws Exception {
-        if (PlayFabSettings.EntityToken == null) throw new Exception ("Must call GetEntityToken before you can use the Entity API");
+    static PlayFabResult<EmptyResponse> privateDeleteBuildRegionAsync(final PlayFabInstanceAPI instance, final DeleteBuildRegionRequest request) throws Exception {
+        final PlayFabApiContext context = PlayFabInstanceAPI.contextOf(instance);
+        final String entityToken = context.getEntityToken();
+        if (entityToken == null) throw new Exception ("Must call GetEntityToken before you can use the Entity API");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/MultiplayerServer/DeleteBuildRegion"), request, "X-EntityToken", PlayFabSettings.EntityToken);
+        FutureTask<Object> task = PlayFabHTTP.doPost(context.getURL("/MultiplayerServer/DeleteBuildRegion"), request, "X-EntityToken", entityToken, EmptyResponse.class);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -1070,9 +1070,7 @@ public class PlayFabMultiplayerAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
-
-        PlayFabJsonSuccess<EmptyResponse> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<EmptyResponse>>(){}.getType());
+        PlayFabJsonSuccess<EmptyResponse> resultData = (PlayFabJsonSuccess<EmptyResponse>) httpResult;
         EmptyResponse result = resultData.data;
 
         PlayFabResult<EmptyResponse> pfResult = new PlayFabResult<EmptyResponse>();
@@ -1089,7 +1087,7 @@ public class PlayFabMultiplayerAPI {
     public static FutureTask<PlayFabResult<EmptyResponse>> DeleteCertificateAsync(final DeleteCertificateRequest request) {
         return new FutureTask(new Callable<PlayFabResult<EmptyResponse>>() {
             public PlayFabResult<EmptyResponse> call() throws Exception {
-                return privateDeleteCertificateAsync(request);
+                return privateDeleteCertificateAsync(null, request);
             }
         });
     }
@@ -1103,7 +1101,7 @@ public class PlayFabMultiplayerAPI {
     public static PlayFabResult<EmptyResponse> DeleteCertificate(final DeleteCertificateRequest request) {
         FutureTask<PlayFabResult<EmptyResponse>> task = new FutureTask(new Callable<PlayFabResult<EmptyResponse>>() {
             public PlayFabResult<EmptyResponse> call() throws Exception {
-                return privateDeleteCertificateAsync(request);
+                return privateDeleteCertificateAsync(null, request);
             }
         });
         try {
@@ -1118,10 +1116,12 @@ public class PlayFabMultiplayerAPI {
 
     /** Deletes a multiplayer server game certificate. */
     @SuppressWarnings("unchecked")
-    private static PlayFabResult<EmptyResponse> privateDeleteCertificateAsync(final DeleteCertificateRequest request) throws Exception {
-        if (PlayFabSettings.EntityToken == null) throw new Exception ("Must call GetEntityToken before you can use the Entity API");
+    static PlayFabResult<EmptyResponse> privateDeleteCertificateAsync(final PlayFabInstanceAPI instance, final DeleteCertificateRequest request) throws Exception {
+        final PlayFabApiContext context = PlayFabInstanceAPI.contextOf(instance);
+        final String entityToken = context.getEntityToken();
+        if (entityToken == null) throw new Exception ("Must call GetEntityToken before you can use the Entity API");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/MultiplayerServer/DeleteCertificate"), request, "X-EntityToken", PlayFabSettings.EntityToken);
+        FutureTask<Object> task = PlayFabHTTP.doPost(context.getURL("/MultiplayerServer/DeleteCertificate"), request, "X-EntityToken", entityToken, EmptyResponse.class);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -1132,9 +1132,7 @@ public class PlayFabMultiplayerAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
-
-        PlayFabJsonSuccess<EmptyResponse> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<EmptyResponse>>(){}.getType());
+        PlayFabJsonSuccess<EmptyResponse> resultData = (PlayFabJsonSuccess<EmptyResponse>) httpResult;
         EmptyResponse result = resultData.data;
 
         PlayFabResult<EmptyResponse> pfResult = new PlayFabResult<EmptyResponse>();
@@ -1151,7 +1149,7 @@ public class PlayFabMultiplayerAPI {
     public static FutureTask<PlayFabResult<EmptyResponse>> DeleteContainerImageRepositoryAsync(final DeleteContainerImageRequest request) {
         return new FutureTask(new Callable<PlayFabResult<EmptyResponse>>() {
             public PlayFabResult<EmptyResponse> call() throws Exception {
-                return privateDeleteContainerImageRepositoryAsync(request);
+                return privateDeleteContainerImageRepositoryAsync(null, request);
             }
         });
     }
@@ -1165,7 +1163,7 @@ public class PlayFabMultiplayerAPI {
     public static PlayFabResult<EmptyResponse> DeleteContainerImageRepository(final DeleteContainerImageRequest request) {
         FutureTask<PlayFabResult<EmptyResponse>> task = new FutureTask(new Callable<PlayFabResult<EmptyResponse>>() {
             public PlayFabResult<EmptyResponse> call() throws Exception {
-                return privateDeleteContainerImageRepositoryAsync(request);
+                return privateDeleteContainerImageRepositoryAsync(null, request);
             }
         });
         try {
@@ -1180,10 +1178,12 @@ public class PlayFabMultiplayerAPI {
 
     /** Deletes a container image repository. */
     @SuppressWarnings("unchecked")
-    private static PlayFabResult<EmptyResponse> privateDeleteContainerImageRepositoryAsync(final DeleteContainerImageRequest request) throws Exception {
-        if (PlayFabSettings.EntityToken == null) throw new Exception ("Must call GetEntityToken before you can use the Entity API");
+    static PlayFabResult<EmptyResponse> privateDeleteContainerImageRepositoryAsync(final PlayFabInstanceAPI instance, final DeleteContainerImageRequest request) throws Exception {
+        final PlayFabApiContext context = PlayFabInstanceAPI.contextOf(instance);
+        final String entityToken = context.getEntityToken();
+        if (entityToken == null) throw new Exception ("Must call GetEntityToken before you can use the Entity API");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/MultiplayerServer/DeleteContainerImageRepository"), request, "X-EntityToken", PlayFabSettings.EntityToken);
+        FutureTask<Object> task = PlayFabHTTP.doPost(context.getURL("/MultiplayerServer/DeleteContainerImageRepository"), request, "X-EntityToken", entityToken, EmptyResponse.class);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -1194,9 +1194,7 @@ public class PlayFabMultiplayerAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
-
-        PlayFabJsonSuccess<EmptyResponse> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<EmptyResponse>>(){}.getType());
+        PlayFabJsonSuccess<EmptyResponse> resultData = (PlayFabJsonSuccess<EmptyResponse>) httpResult;
         EmptyResponse result = resultData.data;
 
         PlayFabResult<EmptyResponse> pfResult = new PlayFabResult<EmptyResponse>();
@@ -1213,7 +1211,7 @@ public class PlayFabMultiplayerAPI {
     public static FutureTask<PlayFabResult<EmptyResponse>> DeleteRemoteUserAsync(final DeleteRemoteUserRequest request) {
         return new FutureTask(new Callable<PlayFabResult<EmptyResponse>>() {
             public PlayFabResult<EmptyResponse> call() throws Exception {
-                return privateDeleteRemoteUserAsync(request);
+                return privateDeleteRemoteUserAsync(null, request);
             }
         });
     }
@@ -1227,7 +1225,7 @@ public class PlayFabMultiplayerAPI {
     public static PlayFabResult<EmptyResponse> DeleteRemoteUser(final DeleteRemoteUserRequest request) {
         FutureTask<PlayFabResult<EmptyResponse>> task = new FutureTask(new Callable<PlayFabResult<EmptyResponse>>() {
             public PlayFabResult<EmptyResponse> call() throws Exception {
-                return privateDeleteRemoteUserAsync(request);
+                return privateDeleteRemoteUserAsync(null, request);
             }
         });
         try {
@@ -1242,10 +1240,12 @@ public class PlayFabMultiplayerAPI {
 
     /** Deletes a remote user to log on to a VM for a multiplayer server build. */
     @SuppressWarnings("unchecked")
-    private static PlayFabResult<EmptyResponse> privateDeleteRemoteUserAsync(final DeleteRemoteUserRequest request) throws Exception {
-        if (PlayFabSettings.EntityToken == null) throw new Exception ("Must call GetEntityToken before you can use the Entity API");
+    static PlayFabResult<EmptyResponse> privateDeleteRemoteUserAsync(final PlayFabInstanceAPI instance, final DeleteRemoteUserRequest request) throws Exception {
+        final PlayFabApiContext context = PlayFabInstanceAPI.contextOf(instance);
+        final String entityToken = context.getEntityToken();
+        if (entityToken == null) throw new Exception ("Must call GetEntityToken before you can use the Entity API");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/MultiplayerServer/DeleteRemoteUser"), request, "X-EntityToken", PlayFabSettings.EntityToken);
+        FutureTask<Object> task = PlayFabHTTP.doPost(context.getURL("/MultiplayerServer/DeleteRemoteUser"), request, "X-EntityToken", entityToken, EmptyResponse.class);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -1256,9 +1256,7 @@ public class PlayFabMultiplayerAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
-
-        PlayFabJsonSuccess<EmptyResponse> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<EmptyResponse>>(){}.getType());
+        PlayFabJsonSuccess<EmptyResponse> resultData = (PlayFabJsonSuccess<EmptyResponse>) httpResult;
         EmptyResponse result = resultData.data;
 
         PlayFabResult<EmptyResponse> pfResult = new PlayFabResult<EmptyResponse>();
@@ -1275,7 +1273,7 @@ public class PlayFabMultiplayerAPI {
     public static FutureTask<PlayFabResult<EnableMultiplayerServersForTitleResponse>> EnableMultiplayerServersForTitleAsync(final EnableMultiplayerServersForTitleRequest request) {
         return new FutureTask(new Callable<PlayFabResult<EnableMultiplayerServersForTitleResponse>>() {
             public PlayFabResult<EnableMultiplayerServersForTitleResponse> call() throws Exception {
-                return privateEnableMultiplayerServersForTitleAsync(request);
+                return privateEnableMultiplayerServersForTitleAsync(null, request);
             }
         });
     }
@@ -1289,7 +1287,7 @@ public class PlayFabMultiplayerAPI {
     public static PlayFabResult<EnableMultiplayerServersForTitleResponse> EnableMultiplayerServersForTitle(final EnableMultiplayerServersForTitleRequest request) {
         FutureTask<PlayFabResult<EnableMultiplayerServersForTitleResponse>> task = new FutureTask(new Callable<PlayFabResult<EnableMultiplayerServersForTitleResponse>>() {
             public PlayFabResult<EnableMultiplayerServersForTitleResponse> call() throws Exception {
-                return privateEnableMultiplayerServersForTitleAsync(request);
+                return privateEnableMultiplayerServersForTitleAsync(null, request);
             }
         });
         try {
@@ -1304,10 +1302,12 @@ public class PlayFabMultiplayerAPI {
 
     /** Enables the multiplayer server feature for a title. */
     @SuppressWarnings("unchecked")
-    private static PlayFabResult<EnableMultiplayerServersForTitleResponse> privateEnableMultiplayerServersForTitleAsync(final EnableMultiplayerServersForTitleRequest request) throws Exception {
-        if (PlayFabSettings.EntityToken == null) throw new Exception ("Must call GetEntityToken before you can use the Entity API");
+    static PlayFabResult<EnableMultiplayerServersForTitleResponse> privateEnableMultiplayerServersForTitleAsync(final PlayFabInstanceAPI instance, final EnableMultiplayerServersForTitleRequest request) throws Exception {
+        final PlayFabApiContext context = PlayFabInstanceAPI.contextOf(instance);
+        final String entityToken = context.getEntityToken();
+        if (entityToken == null) throw new Exception ("Must call GetEntityToken before you can use the Entity API");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/MultiplayerServer/EnableMultiplayerServersForTitle"), request, "X-EntityToken", PlayFabSettings.EntityToken);
+        FutureTask<Object> task = PlayFabHTTP.doPost(context.getURL("/MultiplayerServer/EnableMultiplayerServersForTitle"), request, "X-EntityToken", entityToken, EnableMultiplayerServersForTitleResponse.class);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -1318,9 +1318,7 @@ public class PlayFabMultiplayerAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
-
-        PlayFabJsonSuccess<EnableMultiplayerServersForTitleResponse> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<EnableMultiplayerServersForTitleResponse>>(){}.getType());
+        PlayFabJsonSuccess<EnableMultiplayerServersForTitleResponse> resultData = (PlayFabJsonSuccess<EnableMultiplayerServersForTitleResponse>) httpResult;
         EnableMultiplayerServersForTitleResponse result = resultData.data;
 
         PlayFabResult<EnableMultiplayerServersForTitleResponse> pfResult = new PlayFabResult<EnableMultiplayerServersForTitleResponse>();
@@ -1338,7 +1336,7 @@ public class PlayFabMultiplayerAPI {
     public static FutureTask<PlayFabResult<GetAssetDownloadUrlResponse>> GetAssetDownloadUrlAsync(final GetAssetDownloadUrlRequest request) {
         return new FutureTask(new Callable<PlayFabResult<GetAssetDownloadUrlResponse>>() {
             public PlayFabResult<GetAssetDownloadUrlResponse> call() throws Exception {
-                return privateGetAssetDownloadUrlAsync(request);
+                return privateGetAssetDownloadUrlAsync(null, request);
             }
         });
     }
@@ -1353,7 +1351,7 @@ public class PlayFabMultiplayerAPI {
     public static PlayFabResult<GetAssetDownloadUrlResponse> GetAssetDownloadUrl(final GetAssetDownloadUrlRequest request) {
         FutureTask<PlayFabResult<GetAssetDownloadUrlResponse>> task = new FutureTask(new Callable<PlayFabResult<GetAssetDownloadUrlResponse>>() {
             public PlayFabResult<GetAssetDownloadUrlResponse> call() throws Exception {
-                return privateGetAssetDownloadUrlAsync(request);
+                return privateGetAssetDownloadUrlAsync(null, request);
             }
         });
         try {
@@ -1371,10 +1369,12 @@ public class PlayFabMultiplayerAPI {
      * https://sampleStorageAccount.blob.core.windows.net/gameassets/gameserver.zip?sv=2015-04-05&amp;ss=b&amp;srt=sco&amp;sp=rw&amp;st=startDate&amp;se=endDate&amp;spr=https&amp;sig=sampleSig&amp;api-version=2017-07-29
      */
     @SuppressWarnings("unchecked")
-    private static PlayFabResult<GetAssetDownloadUrlResponse> privateGetAssetDownloadUrlAsync(final GetAssetDownloadUrlRequest request) throws Exception {
-        if (PlayFabSettings.EntityToken == null) throw new Exception ("Must call GetEntityToken before you can use the Entity API");
+    static PlayFabResult<GetAssetDownloadUrlResponse> privateGetAssetDownloadUrlAsync(final PlayFabInstanceAPI instance, final GetAssetDownloadUrlRequest request) throws Exception {
+        final PlayFabApiContext context = PlayFabInstanceAPI.contextOf(instance);
+        final String entityToken = context.getEntityToken();
+        if (entityToken == null) throw new Exception ("Must call GetEntityToken before you can use the Entity API");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/MultiplayerServer/GetAssetDownloadUrl"), request, "X-EntityToken", PlayFabSettings.EntityToken);
+        FutureTask<Object> task = PlayFabHTTP.doPost(context.getURL("/MultiplayerServer/GetAssetDownloadUrl"), request, "X-EntityToken", entityToken, GetAssetDownloadUrlResponse.class);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -1385,9 +1385,7 @@ public class PlayFabMultiplayerAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
-
-        PlayFabJsonSuccess<GetAssetDownloadUrlResponse> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<GetAssetDownloadUrlResponse>>(){}.getType());
+        PlayFabJsonSuccess<GetAssetDownloadUrlResponse> resultData = (PlayFabJsonSuccess<GetAssetDownloadUrlResponse>) httpResult;
         GetAssetDownloadUrlResponse result = resultData.data;
 
         PlayFabResult<GetAssetDownloadUrlResponse> pfResult = new PlayFabResult<GetAssetDownloadUrlResponse>();
@@ -1405,7 +1403,7 @@ public class PlayFabMultiplayerAPI {
     public static FutureTask<PlayFabResult<GetAssetUploadUrlResponse>> GetAssetUploadUrlAsync(final GetAssetUploadUrlRequest request) {
         return new FutureTask(new Callable<PlayFabResult<GetAssetUploadUrlResponse>>() {
             public PlayFabResult<GetAssetUploadUrlResponse> call() throws Exception {
-                return privateGetAssetUploadUrlAsync(request);
+                return privateGetAssetUploadUrlAsync(null, request);
             }
         });
     }
@@ -1420,7 +1418,7 @@ public class PlayFabMultiplayerAPI {
     public static PlayFabResult<GetAssetUploadUrlResponse> GetAssetUploadUrl(final GetAssetUploadUrlRequest request) {
         FutureTask<PlayFabResult<GetAssetUploadUrlResponse>> task = new FutureTask(new Callable<PlayFabResult<GetAssetUploadUrlResponse>>() {
             public PlayFabResult<GetAssetUploadUrlResponse> call() throws Exception {
-                return privateGetAssetUploadUrlAsync(request);
+                return privateGetAssetUploadUrlAsync(null, request);
             }
         });
         try {
@@ -1438,10 +1436,12 @@ public class PlayFabMultiplayerAPI {
      * https://sampleStorageAccount.blob.core.windows.net/gameassets/gameserver.zip?sv=2015-04-05&amp;ss=b&amp;srt=sco&amp;sp=rw&amp;st=startDate&amp;se=endDate&amp;spr=https&amp;sig=sampleSig&amp;api-version=2017-07-29
      */
     @SuppressWarnings("unchecked")
-    private static PlayFabResult<GetAssetUploadUrlResponse> privateGetAssetUploadUrlAsync(final GetAssetUploadUrlRequest request) throws Exception {
-        if (PlayFabSettings.EntityToken == null) throw new Exception ("Must call GetEntityToken before you can use the Entity API");
+    static PlayFabResult<GetAssetUploadUrlResponse> privateGetAssetUploadUrlAsync(final PlayFabInstanceAPI instance, final GetAssetUploadUrlRequest request) throws Exception {
+        final PlayFabApiContext context = PlayFabInstanceAPI.contextOf(instance);
+        final String entityToken = context.getEntityToken();
+        if (entityToken == null) throw new Exception ("Must call GetEntityToken before you can use the Entity API");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/MultiplayerServer/GetAssetUploadUrl"), request, "X-EntityToken", PlayFabSettings.EntityToken);
+        FutureTask<Object> task = PlayFabHTTP.doPost(context.getURL("/MultiplayerServer/GetAssetUploadUrl"), request, "X-EntityToken", entityToken, GetAssetUploadUrlResponse.class);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -1452,9 +1452,7 @@ public class PlayFabMultiplayerAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
-
-        PlayFabJsonSuccess<GetAssetUploadUrlResponse> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<GetAssetUploadUrlResponse>>(){}.getType());
+        PlayFabJsonSuccess<GetAssetUploadUrlResponse> resultData = (PlayFabJsonSuccess<GetAssetUploadUrlResponse>) httpResult;
         GetAssetUploadUrlResponse result = resultData.data;
 
         PlayFabResult<GetAssetUploadUrlResponse> pfResult = new PlayFabResult<GetAssetUploadUrlResponse>();
@@ -1471,7 +1469,7 @@ public class PlayFabMultiplayerAPI {
     public static FutureTask<PlayFabResult<GetBuildResponse>> GetBuildAsync(final GetBuildRequest request) {
         return new FutureTask(new Callable<PlayFabResult<GetBuildResponse>>() {
             public PlayFabResult<GetBuildResponse> call() throws Exception {
-                return privateGetBuildAsync(request);
+                return privateGetBuildAsync(null, request);
             }
         });
     }
@@ -1485,7 +1483,7 @@ public class PlayFabMultiplayerAPI {
     public static PlayFabResult<GetBuildResponse> GetBuild(final GetBuildRequest request) {
         FutureTask<PlayFabResult<GetBuildResponse>> task = new FutureTask(new Callable<PlayFabResult<GetBuildResponse>>() {
             public PlayFabResult<GetBuildResponse> call() throws Exception {
-                return privateGetBuildAsync(request);
+                return privateGetBuildAsync(null, request);
             }
         });
         try {
@@ -1500,10 +1498,12 @@ public class PlayFabMultiplayerAPI {
 
     /** Gets a multiplayer server build. */
     @SuppressWarnings("unchecked")
-    private static PlayFabResult<GetBuildResponse> privateGetBuildAsync(final GetBuildRequest request) throws Exception {
-        if (PlayFabSettings.EntityToken == null) throw new Exception ("Must call GetEntityToken before you can use the Entity API");
+    static PlayFabResult<GetBuildResponse> privateGetBuildAsync(final PlayFabInstanceAPI instance, final GetBuildRequest request) throws Exception {
+        final PlayFabApiContext context = PlayFabInstanceAPI.contextOf(instance);
+        final String entityToken = context.getEntityToken();
+        if (entityToken == null) throw new Exception ("Must call GetEntityToken before you can use the Entity API");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/MultiplayerServer/GetBuild"), request, "X-EntityToken", PlayFabSettings.EntityToken);
+        FutureTask<Object> task = PlayFabHTTP.doPost(context.getURL("/MultiplayerServer/GetBuild"), request, "X-EntityToken", entityToken, GetBuildResponse.class);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -1514,9 +1514,7 @@ public class PlayFabMultiplayerAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
-
-        PlayFabJsonSuccess<GetBuildResponse> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<GetBuildResponse>>(){}.getType());
+        PlayFabJsonSuccess<GetBuildResponse> resultData = (PlayFabJsonSuccess<GetBuildResponse>) httpResult;
         GetBuildResponse result = resultData.data;
 
         PlayFabResult<GetBuildResponse> pfResult = new PlayFabResult<GetBuildResponse>();
@@ -1533,7 +1531,7 @@ public class PlayFabMultiplayerAPI {
     public static FutureTask<PlayFabResult<BuildAliasDetailsResponse>> GetBuildAliasAsync(final GetBuildAliasRequest request) {
         return new FutureTask(new Callable<PlayFabResult<BuildAliasDetailsResponse>>() {
             public PlayFabResult<BuildAliasDetailsResponse> call() throws Exception {
-                return privateGetBuildAliasAsync(request);
+                return privateGetBuildAliasAsync(null, request);
             }
         });
     }
@@ -1547,7 +1545,7 @@ public class PlayFabMultiplayerAPI {
     public static PlayFabResult<BuildAliasDetailsResponse> GetBuildAlias(final GetBuildAliasRequest request) {
         FutureTask<PlayFabResult<BuildAliasDetailsResponse>> task = new FutureTask(new Callable<PlayFabResult<BuildAliasDetailsResponse>>() {
             public PlayFabResult<BuildAliasDetailsResponse> call() throws Exception {
-                return privateGetBuildAliasAsync(request);
+                return privateGetBuildAliasAsync(null, request);
             }
         });
         try {
@@ -1562,10 +1560,12 @@ public class PlayFabMultiplayerAPI {
 
     /** Gets a multiplayer server build alias. */
     @SuppressWarnings("unchecked")
-    private static PlayFabResult<BuildAliasDetailsResponse> privateGetBuildAliasAsync(final GetBuildAliasRequest request) throws Exception {
-        if (PlayFabSettings.EntityToken == null) throw new Exception ("Must call GetEntityToken before you can use the Entity API");
+    static PlayFabResult<BuildAliasDetailsResponse> privateGetBuildAliasAsync(final PlayFabInstanceAPI instance, final GetBuildAliasRequest request) throws Exception {
+        final PlayFabApiContext context = PlayFabInstanceAPI.contextOf(instance);
+        final String entityToken = context.getEntityToken();
+        if (entityToken == null) throw new Exception ("Must call GetEntityToken before you can use the Entity API");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/MultiplayerServer/GetBuildAlias"), request, "X-EntityToken", PlayFabSettings.EntityToken);
+        FutureTask<Object> task = PlayFabHTTP.doPost(context.getURL("/MultiplayerServer/GetBuildAlias"), request, "X-EntityToken", entityToken, BuildAliasDetailsResponse.class);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -1576,9 +1576,7 @@ public class PlayFabMultiplayerAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
-
-        PlayFabJsonSuccess<BuildAliasDetailsResponse> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<BuildAliasDetailsResponse>>(){}.getType());
+        PlayFabJsonSuccess<BuildAliasDetailsResponse> resultData = (PlayFabJsonSuccess<BuildAliasDetailsResponse>) httpResult;
         BuildAliasDetailsResponse result = resultData.data;
 
         PlayFabResult<BuildAliasDetailsResponse> pfResult = new PlayFabResult<BuildAliasDetailsResponse>();
@@ -1595,7 +1593,7 @@ public class PlayFabMultiplayerAPI {
     public static FutureTask<PlayFabResult<GetContainerRegistryCredentialsResponse>> GetContainerRegistryCredentialsAsync(final GetContainerRegistryCredentialsRequest request) {
         return new FutureTask(new Callable<PlayFabResult<GetContainerRegistryCredentialsResponse>>() {
             public PlayFabResult<GetContainerRegistryCredentialsResponse> call() throws Exception {
-                return privateGetContainerRegistryCredentialsAsync(request);
+                return privateGetContainerRegistryCredentialsAsync(null, request);
             }
         });
     }
@@ -1609,7 +1607,7 @@ public class PlayFabMultiplayerAPI {
     public static PlayFabResult<GetContainerRegistryCredentialsResponse> GetContainerRegistryCredentials(final GetContainerRegistryCredentialsRequest request) {
         FutureTask<PlayFabResult<GetContainerRegistryCredentialsResponse>> task = new FutureTask(new Callable<PlayFabResult<GetContainerRegistryCredentialsResponse>>() {
             public PlayFabResult<GetContainerRegistryCredentialsResponse> call() throws Exception {
-                return privateGetContainerRegistryCredentialsAsync(request);
+                return privateGetContainerRegistryCredentialsAsync(null, request);
             }
         });
         try {
@@ -1624,10 +1622,12 @@ public class PlayFabMultiplayerAPI {
 
     /** Gets the credentials to the container registry. */
     @SuppressWarnings("unchecked")
-    private static PlayFabResult<GetContainerRegistryCredentialsResponse> privateGetContainerRegistryCredentialsAsync(final GetContainerRegistryCredentialsRequest request) throws Exception {
-        if (PlayFabSettings.EntityToken == null) throw new Exception ("Must call GetEntityToken before you can use the Entity API");
+    static PlayFabResult<GetContainerRegistryCredentialsResponse> privateGetContainerRegistryCredentialsAsync(final PlayFabInstanceAPI instance, final GetContainerRegistryCredentialsRequest request) throws Exception {
+        final PlayFabApiContext context = PlayFabInstanceAPI.contextOf(instance);
+        final String entityToken = context.getEntityToken();
+        if (entityToken == null) throw new Exception ("Must call GetEntityToken before you can use the Entity API");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/MultiplayerServer/GetContainerRegistryCredentials"), request, "X-EntityToken", PlayFabSettings.EntityToken);
+        FutureTask<Object> task = PlayFabHTTP.doPost(context.getURL("/MultiplayerServer/GetContainerRegistryCredentials"), request, "X-EntityToken", entityToken, GetContainerRegistryCredentialsResponse.class);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -1638,9 +1638,7 @@ public class PlayFabMultiplayerAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
-
-        PlayFabJsonSuccess<GetContainerRegistryCredentialsResponse> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<GetContainerRegistryCredentialsResponse>>(){}.getType());
+        PlayFabJsonSuccess<GetContainerRegistryCredentialsResponse> resultData = (PlayFabJsonSuccess<GetContainerRegistryCredentialsResponse>) httpResult;
         GetContainerRegistryCredentialsResponse result = resultData.data;
 
         PlayFabResult<GetContainerRegistryCredentialsResponse> pfResult = new PlayFabResult<GetContainerRegistryCredentialsResponse>();
@@ -1657,7 +1655,7 @@ public class PlayFabMultiplayerAPI {
     public static FutureTask<PlayFabResult<GetMatchResult>> GetMatchAsync(final GetMatchRequest request) {
         return new FutureTask(new Callable<PlayFabResult<GetMatchResult>>() {
             public PlayFabResult<GetMatchResult> call() throws Exception {
-                return privateGetMatchAsync(request);
+                return privateGetMatchAsync(null, request);
             }
         });
     }
@@ -1671,7 +1669,7 @@ public class PlayFabMultiplayerAPI {
     public static PlayFabResult<GetMatchResult> GetMatch(final GetMatchRequest request) {
         FutureTask<PlayFabResult<GetMatchResult>> task = new FutureTask(new Callable<PlayFabResult<GetMatchResult>>() {
             public PlayFabResult<GetMatchResult> call() throws Exception {
-                return privateGetMatchAsync(request);
+                return privateGetMatchAsync(null, request);
             }
         });
         try {
@@ -1686,10 +1684,12 @@ public class PlayFabMultiplayerAPI {
 
     /** Get a match. */
     @SuppressWarnings("unchecked")
-    private static PlayFabResult<GetMatchResult> privateGetMatchAsync(final GetMatchRequest request) throws Exception {
-        if (PlayFabSettings.EntityToken == null) throw new Exception ("Must call GetEntityToken before you can use the Entity API");
+    static PlayFabResult<GetMatchResult> privateGetMatchAsync(final PlayFabInstanceAPI instance, final GetMatchRequest request) throws Exception {
+        final PlayFabApiContext context = PlayFabInstanceAPI.contextOf(instance);
+        final String entityToken = context.getEntityToken();
+        if (entityToken == null) throw new Exception ("Must call GetEntityToken before you can use the Entity API");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Match/GetMatch"), request, "X-EntityToken", PlayFabSettings.EntityToken);
+        FutureTask<Object> task = PlayFabHTTP.doPost(context.getURL("/Match/GetMatch"), request, "X-EntityToken", entityToken, GetMatchResult.class);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -1700,9 +1700,7 @@ public class PlayFabMultiplayerAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
-
-        PlayFabJsonSuccess<GetMatchResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<GetMatchResult>>(){}.getType());
+        PlayFabJsonSuccess<GetMatchResult> resultData = (PlayFabJsonSuccess<GetMatchResult>) httpResult;
         GetMatchResult result = resultData.data;
 
         PlayFabResult<GetMatchResult> pfResult = new PlayFabResult<GetMatchResult>();
@@ -1719,7 +1717,7 @@ public class PlayFabMultiplayerAPI {
     public static FutureTask<PlayFabResult<GetMatchmakingTicketResult>> GetMatchmakingTicketAsync(final GetMatchmakingTicketRequest request) {
         return new FutureTask(new Callable<PlayFabResult<GetMatchmakingTicketResult>>() {
             public PlayFabResult<GetMatchmakingTicketResult> call() throws Exception {
-                return privateGetMatchmakingTicketAsync(request);
+                return privateGetMatchmakingTicketAsync(null, request);
             }
         });
     }
@@ -1733,7 +1731,7 @@ public class PlayFabMultiplayerAPI {
     public static PlayFabResult<GetMatchmakingTicketResult> GetMatchmakingTicket(final GetMatchmakingTicketRequest request) {
         FutureTask<PlayFabResult<GetMatchmakingTicketResult>> task = new FutureTask(new Callable<PlayFabResult<GetMatchmakingTicketResult>>() {
             public PlayFabResult<GetMatchmakingTicketResult> call() throws Exception {
-                return privateGetMatchmakingTicketAsync(request);
+                return privateGetMatchmakingTicketAsync(null, request);
             }
         });
         try {
@@ -1748,10 +1746,12 @@ public class PlayFabMultiplayerAPI {
 
     /** Get a matchmaking ticket by ticket Id. */
     @SuppressWarnings("unchecked")
-    private static PlayFabResult<GetMatchmakingTicketResult> privateGetMatchmakingTicketAsync(final GetMatchmakingTicketRequest request) throws Exception {
-        if (PlayFabSettings.EntityToken == null) throw new Exception ("Must call GetEntityToken before you can use the Entity API");
+    static PlayFabResult<GetMatchmakingTicketResult> privateGetMatchmakingTicketAsync(final PlayFabInstanceAPI instance, final GetMatchmakingTicketRequest request) throws Exception {
+        final PlayFabApiContext context = PlayFabInstanceAPI.contextOf(instance);
+        final String entityToken = context.getEntityToken();
+        if (entityToken == null) throw new Exception ("Must call GetEntityToken before you can use the Entity API");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Match/GetMatchmakingTicket"), request, "X-EntityToken", PlayFabSettings.EntityToken);
+        FutureTask<Object> task = PlayFabHTTP.doPost(context.getURL("/Match/GetMatchmakingTicket"), request, "X-EntityToken", entityToken, GetMatchmakingTicketResult.class);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -1762,9 +1762,7 @@ public class PlayFabMultiplayerAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
-
-        PlayFabJsonSuccess<GetMatchmakingTicketResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<GetMatchmakingTicketResult>>(){}.getType());
+        PlayFabJsonSuccess<GetMatchmakingTicketResult> resultData = (PlayFabJsonSuccess<GetMatchmakingTicketResult>) httpResult;
         GetMatchmakingTicketResult result = resultData.data;
 
         PlayFabResult<GetMatchmakingTicketResult> pfResult = new PlayFabResult<GetMatchmakingTicketResult>();
@@ -1781,7 +1779,7 @@ public class PlayFabMultiplayerAPI {
     public static FutureTask<PlayFabResult<GetMultiplayerServerDetailsResponse>> GetMultiplayerServerDetailsAsync(final GetMultiplayerServerDetailsRequest request) {
         return new FutureTask(new Callable<PlayFabResult<GetMultiplayerServerDetailsResponse>>() {
             public PlayFabResult<GetMultiplayerServerDetailsResponse> call() throws Exception {
-                return privateGetMultiplayerServerDetailsAsync(request);
+                return privateGetMultiplayerServerDetailsAsync(null, request);
             }
         });
     }
@@ -1795,7 +1793,7 @@ public class PlayFabMultiplayerAPI {
     public static PlayFabResult<GetMultiplayerServerDetailsResponse> GetMultiplayerServerDetails(final GetMultiplayerServerDetailsRequest request) {
         FutureTask<PlayFabResult<GetMultiplayerServerDetailsResponse>> task = new FutureTask(new Callable<PlayFabResult<GetMultiplayerServerDetailsResponse>>() {
             public PlayFabResult<GetMultiplayerServerDetailsResponse> call() throws Exception {
-                return privateGetMultiplayerServerDetailsAsync(request);
+                return privateGetMultiplayerServerDetailsAsync(null, request);
             }
         });
         try {
@@ -1810,10 +1808,12 @@ public class PlayFabMultiplayerAPI {
 
     /** Gets multiplayer server session details for a build. */
     @SuppressWarnings("unchecked")
-    private static PlayFabResult<GetMultiplayerServerDetailsResponse> privateGetMultiplayerServerDetailsAsync(final GetMultiplayerServerDetailsRequest request) throws Exception {
-        if (PlayFabSettings.EntityToken == null) throw new Exception ("Must call GetEntityToken before you can use the Entity API");
+    static PlayFabResult<GetMultiplayerServerDetailsResponse> privateGetMultiplayerServerDetailsAsync(final PlayFabInstanceAPI instance, final GetMultiplayerServerDetailsRequest request) throws Exception {
+        final PlayFabApiContext context = PlayFabInstanceAPI.contextOf(instance);
+        final String entityToken = context.getEntityToken();
+        if (entityToken == null) throw new Exception ("Must call GetEntityToken before you can use the Entity API");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/MultiplayerServer/GetMultiplayerServerDetails"), request, "X-EntityToken", PlayFabSettings.EntityToken);
+        FutureTask<Object> task = PlayFabHTTP.doPost(context.getURL("/MultiplayerServer/GetMultiplayerServerDetails"), request, "X-EntityToken", entityToken, GetMultiplayerServerDetailsResponse.class);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -1824,9 +1824,7 @@ public class PlayFabMultiplayerAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
-
-        PlayFabJsonSuccess<GetMultiplayerServerDetailsResponse> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<GetMultiplayerServerDetailsResponse>>(){}.getType());
+        PlayFabJsonSuccess<GetMultiplayerServerDetailsResponse> resultData = (PlayFabJsonSuccess<GetMultiplayerServerDetailsResponse>) httpResult;
         GetMultiplayerServerDetailsResponse result = resultData.data;
 
         PlayFabResult<GetMultiplayerServerDetailsResponse> pfResult = new PlayFabResult<GetMultiplayerServerDetailsResponse>();
@@ -1843,7 +1841,7 @@ public class PlayFabMultiplayerAPI {
     public static FutureTask<PlayFabResult<GetMultiplayerServerLogsResponse>> GetMultiplayerServerLogsAsync(final GetMultiplayerServerLogsRequest request) {
         return new FutureTask(new Callable<PlayFabResult<GetMultiplayerServerLogsResponse>>() {
             public PlayFabResult<GetMultiplayerServerLogsResponse> call() throws Exception {
-                return privateGetMultiplayerServerLogsAsync(request);
+                return privateGetMultiplayerServerLogsAsync(null, request);
             }
         });
     }
@@ -1857,7 +1855,7 @@ public class PlayFabMultiplayerAPI {
     public static PlayFabResult<GetMultiplayerServerLogsResponse> GetMultiplayerServerLogs(final GetMultiplayerServerLogsRequest request) {
         FutureTask<PlayFabResult<GetMultiplayerServerLogsResponse>> task = new FutureTask(new Callable<PlayFabResult<GetMultiplayerServerLogsResponse>>() {
             public PlayFabResult<GetMultiplayerServerLogsResponse> call() throws Exception {
-                return privateGetMultiplayerServerLogsAsync(request);
+                return privateGetMultiplayerServerLogsAsync(null, request);
             }
         });
         try {
@@ -1872,10 +1870,12 @@ public class PlayFabMultiplayerAPI {
 
     /** Gets multiplayer server logs after a server has terminated. */
     @SuppressWarnings("unchecked")
-    private static PlayFabResult<GetMultiplayerServerLogsResponse> privateGetMultiplayerServerLogsAsync(final GetMultiplayerServerLogsRequest request) throws Exception {
-        if (PlayFabSettings.EntityToken == null) throw new Exception ("Must call GetEntityToken before you can use the Entity API");
+    static PlayFabResult<GetMultiplayerServerLogsResponse> privateGetMultiplayerServerLogsAsync(final PlayFabInstanceAPI instance, final GetMultiplayerServerLogsRequest request) throws Exception {
+        final PlayFabApiContext context = PlayFabInstanceAPI.contextOf(instance);
+        final String entityToken = context.getEntityToken();
+        if (entityToken == null) throw new Exception ("Must call GetEntityToken before you can use the Entity API");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/MultiplayerServer/GetMultiplayerServerLogs"), request, "X-EntityToken", PlayFabSettings.EntityToken);
+        FutureTask<Object> task = PlayFabHTTP.doPost(context.getURL("/MultiplayerServer/GetMultiplayerServerLogs"), request, "X-EntityToken", entityToken, GetMultiplayerServerLogsResponse.class);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -1886,9 +1886,7 @@ public class PlayFabMultiplayerAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
-
-        PlayFabJsonSuccess<GetMultiplayerServerLogsResponse> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<GetMultiplayerServerLogsResponse>>(){}.getType());
+        PlayFabJsonSuccess<GetMultiplayerServerLogsResponse> resultData = (PlayFabJsonSuccess<GetMultiplayerServerLogsResponse>) httpResult;
         GetMultiplayerServerLogsResponse result = resultData.data;
 
         PlayFabResult<GetMultiplayerServerLogsResponse> pfResult = new PlayFabResult<GetMultiplayerServerLogsResponse>();
@@ -1905,7 +1903,7 @@ public class PlayFabMultiplayerAPI {
     public static FutureTask<PlayFabResult<GetMultiplayerServerLogsResponse>> GetMultiplayerSessionLogsBySessionIdAsync(final GetMultiplayerSessionLogsBySessionIdRequest request) {
         return new FutureTask(new Callable<PlayFabResult<GetMultiplayerServerLogsResponse>>() {
             public PlayFabResult<GetMultiplayerServerLogsResponse> call() throws Exception {
-                return privateGetMultiplayerSessionLogsBySessionIdAsync(request);
+                return privateGetMultiplayerSessionLogsBySessionIdAsync(null, request);
             }
         });
     }
@@ -1919,7 +1917,7 @@ public class PlayFabMultiplayerAPI {
     public static PlayFabResult<GetMultiplayerServerLogsResponse> GetMultiplayerSessionLogsBySessionId(final GetMultiplayerSessionLogsBySessionIdRequest request) {
         FutureTask<PlayFabResult<GetMultiplayerServerLogsResponse>> task = new FutureTask(new Callable<PlayFabResult<GetMultiplayerServerLogsResponse>>() {
             public PlayFabResult<GetMultiplayerServerLogsResponse> call() throws Exception {
-                return privateGetMultiplayerSessionLogsBySessionIdAsync(request);
+                return privateGetMultiplayerSessionLogsBySessionIdAsync(null, request);
             }
         });
         try {
@@ -1934,10 +1932,12 @@ public class PlayFabMultiplayerAPI {
 
     /** Gets multiplayer server logs after a server has terminated. */
     @SuppressWarnings("unchecked")
-    private static PlayFabResult<GetMultiplayerServerLogsResponse> privateGetMultiplayerSessionLogsBySessionIdAsync(final GetMultiplayerSessionLogsBySessionIdRequest request) throws Exception {
-        if (PlayFabSettings.EntityToken == null) throw new Exception ("Must call GetEntityToken before you can use the Entity API");
+    static PlayFabResult<GetMultiplayerServerLogsResponse> privateGetMultiplayerSessionLogsBySessionIdAsync(final PlayFabInstanceAPI instance, final GetMultiplayerSessionLogsBySessionIdRequest request) throws Exception {
+        final PlayFabApiContext context = PlayFabInstanceAPI.contextOf(instance);
+        final String entityToken = context.getEntityToken();
+        if (entityToken == null) throw new Exception ("Must call GetEntityToken before you can use the Entity API");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/MultiplayerServer/GetMultiplayerSessionLogsBySessionId"), request, "X-EntityToken", PlayFabSettings.EntityToken);
+        FutureTask<Object> task = PlayFabHTTP.doPost(context.getURL("/MultiplayerServer/GetMultiplayerSessionLogsBySessionId"), request, "X-EntityToken", entityToken, GetMultiplayerServerLogsResponse.class);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -1948,9 +1948,7 @@ public class PlayFabMultiplayerAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
-
-        PlayFabJsonSuccess<GetMultiplayerServerLogsResponse> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<GetMultiplayerServerLogsResponse>>(){}.getType());
+        PlayFabJsonSuccess<GetMultiplayerServerLogsResponse> resultData = (PlayFabJsonSuccess<GetMultiplayerServerLogsResponse>) httpResult;
         GetMultiplayerServerLogsResponse result = resultData.data;
 
         PlayFabResult<GetMultiplayerServerLogsResponse> pfResult = new PlayFabResult<GetMultiplayerServerLogsResponse>();
@@ -1967,7 +1965,7 @@ public class PlayFabMultiplayerAPI {
     public static FutureTask<PlayFabResult<GetQueueStatisticsResult>> GetQueueStatisticsAsync(final GetQueueStatisticsRequest request) {
         return new FutureTask(new Callable<PlayFabResult<GetQueueStatisticsResult>>() {
             public PlayFabResult<GetQueueStatisticsResult> call() throws Exception {
-                return privateGetQueueStatisticsAsync(request);
+                return privateGetQueueStatisticsAsync(null, request);
             }
         });
     }
@@ -1981,7 +1979,7 @@ public class PlayFabMultiplayerAPI {
     public static PlayFabResult<GetQueueStatisticsResult> GetQueueStatistics(final GetQueueStatisticsRequest request) {
         FutureTask<PlayFabResult<GetQueueStatisticsResult>> task = new FutureTask(new Callable<PlayFabResult<GetQueueStatisticsResult>>() {
             public PlayFabResult<GetQueueStatisticsResult> call() throws Exception {
-                return privateGetQueueStatisticsAsync(request);
+                return privateGetQueueStatisticsAsync(null, request);
             }
         });
         try {
@@ -1996,10 +1994,12 @@ public class PlayFabMultiplayerAPI {
 
     /** Get the statistics for a queue. */
     @SuppressWarnings("unchecked")
-    private static PlayFabResult<GetQueueStatisticsResult> privateGetQueueStatisticsAsync(final GetQueueStatisticsRequest request) throws Exception {
-        if (PlayFabSettings.EntityToken == null) throw new Exception ("Must call GetEntityToken before you can use the Entity API");
+    static PlayFabResult<GetQueueStatisticsResult> privateGetQueueStatisticsAsync(final PlayFabInstanceAPI instance, final GetQueueStatisticsRequest request) throws Exception {
+        final PlayFabApiContext context = PlayFabInstanceAPI.contextOf(instance);
+        final String entityToken = context.getEntityToken();
+        if (entityToken == null) throw new Exception ("Must call GetEntityToken before you can use the Entity API");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Match/GetQueueStatistics"), request, "X-EntityToken", PlayFabSettings.EntityToken);
+        FutureTask<Object> task = PlayFabHTTP.doPost(context.getURL("/Match/GetQueueStatistics"), request, "X-EntityToken", entityToken, GetQueueStatisticsResult.class);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -2010,9 +2010,7 @@ public class PlayFabMultiplayerAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
-
-        PlayFabJsonSuccess<GetQueueStatisticsResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<GetQueueStatisticsResult>>(){}.getType());
+        PlayFabJsonSuccess<GetQueueStatisticsResult> resultData = (PlayFabJsonSuccess<GetQueueStatisticsResult>) httpResult;
         GetQueueStatisticsResult result = resultData.data;
 
         PlayFabResult<GetQueueStatisticsResult> pfResult = new PlayFabResult<GetQueueStatisticsResult>();
@@ -2029,7 +2027,7 @@ public class PlayFabMultiplayerAPI {
     public static FutureTask<PlayFabResult<GetRemoteLoginEndpointResponse>> GetRemoteLoginEndpointAsync(final GetRemoteLoginEndpointRequest request) {
         return new FutureTask(new Callable<PlayFabResult<GetRemoteLoginEndpointResponse>>() {
             public PlayFabResult<GetRemoteLoginEndpointResponse> call() throws Exception {
-                return privateGetRemoteLoginEndpointAsync(request);
+                return privateGetRemoteLoginEndpointAsync(null, request);
             }
         });
     }
@@ -2043,7 +2041,7 @@ public class PlayFabMultiplayerAPI {
     public static PlayFabResult<GetRemoteLoginEndpointResponse> GetRemoteLoginEndpoint(final GetRemoteLoginEndpointRequest request) {
         FutureTask<PlayFabResult<GetRemoteLoginEndpointResponse>> task = new FutureTask(new Callable<PlayFabResult<GetRemoteLoginEndpointResponse>>() {
             public PlayFabResult<GetRemoteLoginEndpointResponse> call() throws Exception {
-                return privateGetRemoteLoginEndpointAsync(request);
+                return privateGetRemoteLoginEndpointAsync(null, request);
             }
         });
         try {
@@ -2058,10 +2056,12 @@ public class PlayFabMultiplayerAPI {
 
     /** Gets a remote login endpoint to a VM that is hosting a multiplayer server build. */
     @SuppressWarnings("unchecked")
-    private static PlayFabResult<GetRemoteLoginEndpointResponse> privateGetRemoteLoginEndpointAsync(final GetRemoteLoginEndpointRequest request) throws Exception {
-        if (PlayFabSettings.EntityToken == null) throw new Exception ("Must call GetEntityToken before you can use the Entity API");
+    static PlayFabResult<GetRemoteLoginEndpointResponse> privateGetRemoteLoginEndpointAsync(final PlayFabInstanceAPI instance, final GetRemoteLoginEndpointRequest request) throws Exception {
+        final PlayFabApiContext context = PlayFabInstanceAPI.contextOf(instance);
+        final String entityToken = context.getEntityToken();
+        if (entityToken == null) throw new Exception ("Must call GetEntityToken before you can use the Entity API");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/MultiplayerServer/GetRemoteLoginEndpoint"), request, "X-EntityToken", PlayFabSettings.EntityToken);
+        FutureTask<Object> task = PlayFabHTTP.doPost(context.getURL("/MultiplayerServer/GetRemoteLoginEndpoint"), request, "X-EntityToken", entityToken, GetRemoteLoginEndpointResponse.class);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -2072,9 +2072,7 @@ public class PlayFabMultiplayerAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
-
-        PlayFabJsonSuccess<GetRemoteLoginEndpointResponse> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<GetRemoteLoginEndpointResponse>>(){}.getType());
+        PlayFabJsonSuccess<GetRemoteLoginEndpointResponse> resultData = (PlayFabJsonSuccess<GetRemoteLoginEndpointResponse>) httpResult;
         GetRemoteLoginEndpointResponse result = resultData.data;
 
         PlayFabResult<GetRemoteLoginEndpointResponse> pfResult = new PlayFabResult<GetRemoteLoginEndpointResponse>();
@@ -2091,7 +2089,7 @@ public class PlayFabMultiplayerAPI {
     public static FutureTask<PlayFabResult<GetServerBackfillTicketResult>> GetServerBackfillTicketAsync(final GetServerBackfillTicketRequest request) {
         return new FutureTask(new Callable<PlayFabResult<GetServerBackfillTicketResult>>() {
             public PlayFabResult<GetServerBackfillTicketResult> call() throws Exception {
-                return privateGetServerBackfillTicketAsync(request);
+                return privateGetServerBackfillTicketAsync(null, request);
             }
         });
     }
@@ -2105,7 +2103,7 @@ public class PlayFabMultiplayerAPI {
     public static PlayFabResult<GetServerBackfillTicketResult> GetServerBackfillTicket(final GetServerBackfillTicketRequest request) {
         FutureTask<PlayFabResult<GetServerBackfillTicketResult>> task = new FutureTask(new Callable<PlayFabResult<GetServerBackfillTicketResult>>() {
             public PlayFabResult<GetServerBackfillTicketResult> call() throws Exception {
-                return privateGetServerBackfillTicketAsync(request);
+                return privateGetServerBackfillTicketAsync(null, request);
             }
         });
         try {
@@ -2120,10 +2118,12 @@ public class PlayFabMultiplayerAPI {
 
     /** Get a matchmaking backfill ticket by ticket Id. */
     @SuppressWarnings("unchecked")
-    private static PlayFabResult<GetServerBackfillTicketResult> privateGetServerBackfillTicketAsync(final GetServerBackfillTicketRequest request) throws Exception {
-        if (PlayFabSettings.EntityToken == null) throw new Exception ("Must call GetEntityToken before you can use the Entity API");
+    static PlayFabResult<GetServerBackfillTicketResult> privateGetServerBackfillTicketAsync(final PlayFabInstanceAPI instance, final GetServerBackfillTicketRequest request) throws Exception {
+        final PlayFabApiContext context = PlayFabInstanceAPI.contextOf(instance);
+        final String entityToken = context.getEntityToken();
+        if (entityToken == null) throw new Exception ("Must call GetEntityToken before you can use the Entity API");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Match/GetServerBackfillTicket"), request, "X-EntityToken", PlayFabSettings.EntityToken);
+        FutureTask<Object> task = PlayFabHTTP.doPost(context.getURL("/Match/GetServerBackfillTicket"), request, "X-EntityToken", entityToken, GetServerBackfillTicketResult.class);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -2134,9 +2134,7 @@ public class PlayFabMultiplayerAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
-
-        PlayFabJsonSuccess<GetServerBackfillTicketResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<GetServerBackfillTicketResult>>(){}.getType());
+        PlayFabJsonSuccess<GetServerBackfillTicketResult> resultData = (PlayFabJsonSuccess<GetServerBackfillTicketResult>) httpResult;
         GetServerBackfillTicketResult result = resultData.data;
 
         PlayFabResult<GetServerBackfillTicketResult> pfResult = new PlayFabResult<GetServerBackfillTicketResult>();
@@ -2153,7 +2151,7 @@ public class PlayFabMultiplayerAPI {
     public static FutureTask<PlayFabResult<GetTitleEnabledForMultiplayerServersStatusResponse>> GetTitleEnabledForMultiplayerServersStatusAsync(final GetTitleEnabledForMultiplayerServersStatusRequest request) {
         return new FutureTask(new Callable<PlayFabResult<GetTitleEnabledForMultiplayerServersStatusResponse>>() {
             public PlayFabResult<GetTitleEnabledForMultiplayerServersStatusResponse> call() throws Exception {
-                return privateGetTitleEnabledForMultiplayerServersStatusAsync(request);
+                return privateGetTitleEnabledForMultiplayerServersStatusAsync(null, request);
             }
         });
     }
@@ -2167,7 +2165,7 @@ public class PlayFabMultiplayerAPI {
     public static PlayFabResult<GetTitleEnabledForMultiplayerServersStatusResponse> GetTitleEnabledForMultiplayerServersStatus(final GetTitleEnabledForMultiplayerServersStatusRequest request) {
         FutureTask<PlayFabResult<GetTitleEnabledForMultiplayerServersStatusResponse>> task = new FutureTask(new Callable<PlayFabResult<GetTitleEnabledForMultiplayerServersStatusResponse>>() {
             public PlayFabResult<GetTitleEnabledForMultiplayerServersStatusResponse> call() throws Exception {
-                return privateGetTitleEnabledForMultiplayerServersStatusAsync(request);
+                return privateGetTitleEnabledForMultiplayerServersStatusAsync(null, request);
             }
         });
         try {
@@ -2182,10 +2180,12 @@ public class PlayFabMultiplayerAPI {
 
     /** Gets the status of whether a title is enabled for the multiplayer server feature. */
     @SuppressWarnings("unchecked")
-    private static PlayFabResult<GetTitleEnabledForMultiplayerServersStatusResponse> privateGetTitleEnabledForMultiplayerServersStatusAsync(final GetTitleEnabledForMultiplayerServersStatusRequest request) throws Exception {
-        if (PlayFabSettings.EntityToken == null) throw new Exception ("Must call GetEntityToken before you can use the Entity API");
+    static PlayFabResult<GetTitleEnabledForMultiplayerServersStatusResponse> privateGetTitleEnabledForMultiplayerServersStatusAsync(final PlayFabInstanceAPI instance, final GetTitleEnabledForMultiplayerServersStatusRequest request) throws Exception {
+        final PlayFabApiContext context = PlayFabInstanceAPI.contextOf(instance);
+        final String entityToken = context.getEntityToken();
+        if (entityToken == null) throw new Exception ("Must call GetEntityToken before you can use the Entity API");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/MultiplayerServer/GetTitleEnabledForMultiplayerServersStatus"), request, "X-EntityToken", PlayFabSettings.EntityToken);
+        FutureTask<Object> task = PlayFabHTTP.doPost(context.getURL("/MultiplayerServer/GetTitleEnabledForMultiplayerServersStatus"), request, "X-EntityToken", entityToken, GetTitleEnabledForMultiplayerServersStatusResponse.class);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -2196,9 +2196,7 @@ public class PlayFabMultiplayerAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
-
-        PlayFabJsonSuccess<GetTitleEnabledForMultiplayerServersStatusResponse> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<GetTitleEnabledForMultiplayerServersStatusResponse>>(){}.getType());
+        PlayFabJsonSuccess<GetTitleEnabledForMultiplayerServersStatusResponse> resultData = (PlayFabJsonSuccess<GetTitleEnabledForMultiplayerServersStatusResponse>) httpResult;
         GetTitleEnabledForMultiplayerServersStatusResponse result = resultData.data;
 
         PlayFabResult<GetTitleEnabledForMultiplayerServersStatusResponse> pfResult = new PlayFabResult<GetTitleEnabledForMultiplayerServersStatusResponse>();
@@ -2215,7 +2213,7 @@ public class PlayFabMultiplayerAPI {
     public static FutureTask<PlayFabResult<GetTitleMultiplayerServersQuotaChangeResponse>> GetTitleMultiplayerServersQuotaChangeAsync(final GetTitleMultiplayerServersQuotaChangeRequest request) {
         return new FutureTask(new Callable<PlayFabResult<GetTitleMultiplayerServersQuotaChangeResponse>>() {
             public PlayFabResult<GetTitleMultiplayerServersQuotaChangeResponse> call() throws Exception {
-                return privateGetTitleMultiplayerServersQuotaChangeAsync(request);
+                return privateGetTitleMultiplayerServersQuotaChangeAsync(null, request);
             }
         });
     }
@@ -2229,7 +2227,7 @@ public class PlayFabMultiplayerAPI {
     public static PlayFabResult<GetTitleMultiplayerServersQuotaChangeResponse> GetTitleMultiplayerServersQuotaChange(final GetTitleMultiplayerServersQuotaChangeRequest request) {
         FutureTask<PlayFabResult<GetTitleMultiplayerServersQuotaChangeResponse>> task = new FutureTask(new Callable<PlayFabResult<GetTitleMultiplayerServersQuotaChangeResponse>>() {
             public PlayFabResult<GetTitleMultiplayerServersQuotaChangeResponse> call() throws Exception {
-                return privateGetTitleMultiplayerServersQuotaChangeAsync(request);
+                return privateGetTitleMultiplayerServersQuotaChangeAsync(null, request);
             }
         });
         try {
@@ -2244,10 +2242,12 @@ public class PlayFabMultiplayerAPI {
 
     /** Gets a title's server quota change request. */
     @SuppressWarnings("unchecked")
-    private static PlayFabResult<GetTitleMultiplayerServersQuotaChangeResponse> privateGetTitleMultiplayerServersQuotaChangeAsync(final GetTitleMultiplayerServersQuotaChangeRequest request) throws Exception {
-        if (PlayFabSettings.EntityToken == null) throw new Exception ("Must call GetEntityToken before you can use the Entity API");
+    static PlayFabResult<GetTitleMultiplayerServersQuotaChangeResponse> privateGetTitleMultiplayerServersQuotaChangeAsync(final PlayFabInstanceAPI instance, final GetTitleMultiplayerServersQuotaChangeRequest request) throws Exception {
+        final PlayFabApiContext context = PlayFabInstanceAPI.contextOf(instance);
+        final String entityToken = context.getEntityToken();
+        if (entityToken == null) throw new Exception ("Must call GetEntityToken before you can use the Entity API");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/MultiplayerServer/GetTitleMultiplayerServersQuotaChange"), request, "X-EntityToken", PlayFabSettings.EntityToken);
+        FutureTask<Object> task = PlayFabHTTP.doPost(context.getURL("/MultiplayerServer/GetTitleMultiplayerServersQuotaChange"), request, "X-EntityToken", entityToken, GetTitleMultiplayerServersQuotaChangeResponse.class);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -2258,9 +2258,7 @@ public class PlayFabMultiplayerAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
-
-        PlayFabJsonSuccess<GetTitleMultiplayerServersQuotaChangeResponse> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<GetTitleMultiplayerServersQuotaChangeResponse>>(){}.getType());
+        PlayFabJsonSuccess<GetTitleMultiplayerServersQuotaChangeResponse> resultData = (PlayFabJsonSuccess<GetTitleMultiplayerServersQuotaChangeResponse>) httpResult;
         GetTitleMultiplayerServersQuotaChangeResponse result = resultData.data;
 
         PlayFabResult<GetTitleMultiplayerServersQuotaChangeResponse> pfResult = new PlayFabResult<GetTitleMultiplayerServersQuotaChangeResponse>();
@@ -2277,7 +2275,7 @@ public class PlayFabMultiplayerAPI {
     public static FutureTask<PlayFabResult<GetTitleMultiplayerServersQuotasResponse>> GetTitleMultiplayerServersQuotasAsync(final GetTitleMultiplayerServersQuotasRequest request) {
         return new FutureTask(new Callable<PlayFabResult<GetTitleMultiplayerServersQuotasResponse>>() {
             public PlayFabResult<GetTitleMultiplayerServersQuotasResponse> call() throws Exception {
-                return privateGetTitleMultiplayerServersQuotasAsync(request);
+                return privateGetTitleMultiplayerServersQuotasAsync(null, request);
             }
         });
     }
@@ -2291,7 +2289,7 @@ public class PlayFabMultiplayerAPI {
     public static PlayFabResult<GetTitleMultiplayerServersQuotasResponse> GetTitleMultiplayerServersQuotas(final GetTitleMultiplayerServersQuotasRequest request) {
         FutureTask<PlayFabResult<GetTitleMultiplayerServersQuotasResponse>> task = new FutureTask(new Callable<PlayFabResult<GetTitleMultiplayerServersQuotasResponse>>() {
             public PlayFabResult<GetTitleMultiplayerServersQuotasResponse> call() throws Exception {
-                return privateGetTitleMultiplayerServersQuotasAsync(request);
+                return privateGetTitleMultiplayerServersQuotasAsync(null, request);
             }
         });
         try {
@@ -2306,10 +2304,12 @@ public class PlayFabMultiplayerAPI {
 
     /** Gets the quotas for a title in relation to multiplayer servers. */
     @SuppressWarnings("unchecked")
-    private static PlayFabResult<GetTitleMultiplayerServersQuotasResponse> privateGetTitleMultiplayerServersQuotasAsync(final GetTitleMultiplayerServersQuotasRequest request) throws Exception {
-        if (PlayFabSettings.EntityToken == null) throw new Exception ("Must call GetEntityToken before you can use the Entity API");
+    static PlayFabResult<GetTitleMultiplayerServersQuotasResponse> privateGetTitleMultiplayerServersQuotasAsync(final PlayFabInstanceAPI instance, final GetTitleMultiplayerServersQuotasRequest request) throws Exception {
+        final PlayFabApiContext context = PlayFabInstanceAPI.contextOf(instance);
+        final String entityToken = context.getEntityToken();
+        if (entityToken == null) throw new Exception ("Must call GetEntityToken before you can use the Entity API");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/MultiplayerServer/GetTitleMultiplayerServersQuotas"), request, "X-EntityToken", PlayFabSettings.EntityToken);
+        FutureTask<Object> task = PlayFabHTTP.doPost(context.getURL("/MultiplayerServer/GetTitleMultiplayerServersQuotas"), request, "X-EntityToken", entityToken, GetTitleMultiplayerServersQuotasResponse.class);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -2320,9 +2320,7 @@ public class PlayFabMultiplayerAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
-
-        PlayFabJsonSuccess<GetTitleMultiplayerServersQuotasResponse> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<GetTitleMultiplayerServersQuotasResponse>>(){}.getType());
+        PlayFabJsonSuccess<GetTitleMultiplayerServersQuotasResponse> resultData = (PlayFabJsonSuccess<GetTitleMultiplayerServersQuotasResponse>) httpResult;
         GetTitleMultiplayerServersQuotasResponse result = resultData.data;
 
         PlayFabResult<GetTitleMultiplayerServersQuotasResponse> pfResult = new PlayFabResult<GetTitleMultiplayerServersQuotasResponse>();
@@ -2339,7 +2337,7 @@ public class PlayFabMultiplayerAPI {
     public static FutureTask<PlayFabResult<JoinMatchmakingTicketResult>> JoinMatchmakingTicketAsync(final JoinMatchmakingTicketRequest request) {
         return new FutureTask(new Callable<PlayFabResult<JoinMatchmakingTicketResult>>() {
             public PlayFabResult<JoinMatchmakingTicketResult> call() throws Exception {
-                return privateJoinMatchmakingTicketAsync(request);
+                return privateJoinMatchmakingTicketAsync(null, request);
             }
         });
     }
@@ -2353,7 +2351,7 @@ public class PlayFabMultiplayerAPI {
     public static PlayFabResult<JoinMatchmakingTicketResult> JoinMatchmakingTicket(final JoinMatchmakingTicketRequest request) {
         FutureTask<PlayFabResult<JoinMatchmakingTicketResult>> task = new FutureTask(new Callable<PlayFabResult<JoinMatchmakingTicketResult>>() {
             public PlayFabResult<JoinMatchmakingTicketResult> call() throws Exception {
-                return privateJoinMatchmakingTicketAsync(request);
+                return privateJoinMatchmakingTicketAsync(null, request);
             }
         });
         try {
@@ -2368,10 +2366,12 @@ public class PlayFabMultiplayerAPI {
 
     /** Join a matchmaking ticket. */
     @SuppressWarnings("unchecked")
-    private static PlayFabResult<JoinMatchmakingTicketResult> privateJoinMatchmakingTicketAsync(final JoinMatchmakingTicketRequest request) throws Exception {
-        if (PlayFabSettings.EntityToken == null) throw new Exception ("Must call GetEntityToken before you can use the Entity API");
+    static PlayFabResult<JoinMatchmakingTicketResult> privateJoinMatchmakingTicketAsync(final PlayFabInstanceAPI instance, final JoinMatchmakingTicketRequest request) throws Exception {
+        final PlayFabApiContext context = PlayFabInstanceAPI.contextOf(instance);
+        final String entityToken = context.getEntityToken();
+        if (entityToken == null) throw new Exception ("Must call GetEntityToken before you can use the Entity API");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Match/JoinMatchmakingTicket"), request, "X-EntityToken", PlayFabSettings.EntityToken);
+        FutureTask<Object> task = PlayFabHTTP.doPost(context.getURL("/Match/JoinMatchmakingTicket"), request, "X-EntityToken", entityToken, JoinMatchmakingTicketResult.class);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -2382,9 +2382,7 @@ public class PlayFabMultiplayerAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
-
-        PlayFabJsonSuccess<JoinMatchmakingTicketResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<JoinMatchmakingTicketResult>>(){}.getType());
+        PlayFabJsonSuccess<JoinMatchmakingTicketResult> resultData = (PlayFabJsonSuccess<JoinMatchmakingTicketResult>) httpResult;
         JoinMatchmakingTicketResult result = resultData.data;
 
         PlayFabResult<JoinMatchmakingTicketResult> pfResult = new PlayFabResult<JoinMatchmakingTicketResult>();
@@ -2401,7 +2399,7 @@ public class PlayFabMultiplayerAPI {
     public static FutureTask<PlayFabResult<ListMultiplayerServersResponse>> ListArchivedMultiplayerServersAsync(final ListMultiplayerServersRequest request) {
         return new FutureTask(new Callable<PlayFabResult<ListMultiplayerServersResponse>>() {
             public PlayFabResult<ListMultiplayerServersResponse> call() throws Exception {
-                return privateListArchivedMultiplayerServersAsync(request);
+                return privateListArchivedMultiplayerServersAsync(null, request);
             }
         });
     }
@@ -2415,7 +2413,7 @@ public class PlayFabMultiplayerAPI {
     public static PlayFabResult<ListMultiplayerServersResponse> ListArchivedMultiplayerServers(final ListMultiplayerServersRequest request) {
         FutureTask<PlayFabResult<ListMultiplayerServersResponse>> task = new FutureTask(new Callable<PlayFabResult<ListMultiplayerServersResponse>>() {
             public PlayFabResult<ListMultiplayerServersResponse> call() throws Exception {
-                return privateListArchivedMultiplayerServersAsync(request);
+                return privateListArchivedMultiplayerServersAsync(null, request);
             }
         });
         try {
@@ -2430,10 +2428,12 @@ public class PlayFabMultiplayerAPI {
 
     /** Lists archived multiplayer server sessions for a build. */
     @SuppressWarnings("unchecked")
-    private static PlayFabResult<ListMultiplayerServersResponse> privateListArchivedMultiplayerServersAsync(final ListMultiplayerServersRequest request) throws Exception {
-        if (PlayFabSettings.EntityToken == null) throw new Exception ("Must call GetEntityToken before you can use the Entity API");
+    static PlayFabResult<ListMultiplayerServersResponse> privateListArchivedMultiplayerServersAsync(final PlayFabInstanceAPI instance, final ListMultiplayerServersRequest request) throws Exception {
+        final PlayFabApiContext context = PlayFabInstanceAPI.contextOf(instance);
+        final String entityToken = context.getEntityToken();
+        if (entityToken == null) throw new Exception ("Must call GetEntityToken before you can use the Entity API");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/MultiplayerServer/ListArchivedMultiplayerServers"), request, "X-EntityToken", PlayFabSettings.EntityToken);
+        FutureTask<Object> task = PlayFabHTTP.doPost(context.getURL("/MultiplayerServer/ListArchivedMultiplayerServers"), request, "X-EntityToken", entityToken, ListMultiplayerServersResponse.class);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -2444,9 +2444,7 @@ public class PlayFabMultiplayerAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
-
-        PlayFabJsonSuccess<ListMultiplayerServersResponse> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<ListMultiplayerServersResponse>>(){}.getType());
+        PlayFabJsonSuccess<ListMultiplayerServersResponse> resultData = (PlayFabJsonSuccess<ListMultiplayerServersResponse>) httpResult;
         ListMultiplayerServersResponse result = resultData.data;
 
         PlayFabResult<ListMultiplayerServersResponse> pfResult = new PlayFabResult<ListMultiplayerServersResponse>();
@@ -2463,7 +2461,7 @@ public class PlayFabMultiplayerAPI {
     public static FutureTask<PlayFabResult<ListAssetSummariesResponse>> ListAssetSummariesAsync(final ListAssetSummariesRequest request) {
         return new FutureTask(new Callable<PlayFabResult<ListAssetSummariesResponse>>() {
             public PlayFabResult<ListAssetSummariesResponse> call() throws Exception {
-                return privateListAssetSummariesAsync(request);
+                return privateListAssetSummariesAsync(null, request);
             }
         });
     }
@@ -2477,7 +2475,7 @@ public class PlayFabMultiplayerAPI {
     public static PlayFabResult<ListAssetSummariesResponse> ListAssetSummaries(final ListAssetSummariesRequest request) {
         FutureTask<PlayFabResult<ListAssetSummariesResponse>> task = new FutureTask(new Callable<PlayFabResult<ListAssetSummariesResponse>>() {
             public PlayFabResult<ListAssetSummariesResponse> call() throws Exception {
-                return privateListAssetSummariesAsync(request);
+                return privateListAssetSummariesAsync(null, request);
             }
         });
         try {
@@ -2492,10 +2490,12 @@ public class PlayFabMultiplayerAPI {
 
     /** Lists multiplayer server game assets for a title. */
     @SuppressWarnings("unchecked")
-    private static PlayFabResult<ListAssetSummariesResponse> privateListAssetSummariesAsync(final ListAssetSummariesRequest request) throws Exception {
-        if (PlayFabSettings.EntityToken == null) throw new Exception ("Must call GetEntityToken before you can use the Entity API");
+    static PlayFabResult<ListAssetSummariesResponse> privateListAssetSummariesAsync(final PlayFabInstanceAPI instance, final ListAssetSummariesRequest request) throws Exception {
+        final PlayFabApiContext context = PlayFabInstanceAPI.contextOf(instance);
+        final String entityToken = context.getEntityToken();
+        if (entityToken == null) throw new Exception ("Must call GetEntityToken before you can use the Entity API");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/MultiplayerServer/ListAssetSummaries"), request, "X-EntityToken", PlayFabSettings.EntityToken);
+        FutureTask<Object> task = PlayFabHTTP.doPost(context.getURL("/MultiplayerServer/ListAssetSummaries"), request, "X-EntityToken", entityToken, ListAssetSummariesResponse.class);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -2506,9 +2506,7 @@ public class PlayFabMultiplayerAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
-
-        PlayFabJsonSuccess<ListAssetSummariesResponse> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<ListAssetSummariesResponse>>(){}.getType());
+        PlayFabJsonSuccess<ListAssetSummariesResponse> resultData = (PlayFabJsonSuccess<ListAssetSummariesResponse>) httpResult;
         ListAssetSummariesResponse result = resultData.data;
 
         PlayFabResult<ListAssetSummariesResponse> pfResult = new PlayFabResult<ListAssetSummariesResponse>();
@@ -2526,7 +2524,7 @@ public class PlayFabMultiplayerAPI {
     public static FutureTask<PlayFabResult<ListBuildAliasesResponse>> ListBuildAliasesAsync(final ListBuildAliasesRequest request) {
         return new FutureTask(new Callable<PlayFabResult<ListBuildAliasesResponse>>() {
             public PlayFabResult<ListBuildAliasesResponse> call() throws Exception {
-                return privateListBuildAliasesAsync(request);
+                return privateListBuildAliasesAsync(null, request);
             }
         });
     }
@@ -2541,7 +2539,7 @@ public class PlayFabMultiplayerAPI {
     public static PlayFabResult<ListBuildAliasesResponse> ListBuildAliases(final ListBuildAliasesRequest request) {
         FutureTask<PlayFabResult<ListBuildAliasesResponse>> task = new FutureTask(new Callable<PlayFabResult<ListBuildAliasesResponse>>() {
             public PlayFabResult<ListBuildAliasesResponse> call() throws Exception {
-                return privateListBuildAliasesAsync(request);
+                return privateListBuildAliasesAsync(null, request);
             }
         });
         try {
@@ -2559,10 +2557,12 @@ public class PlayFabMultiplayerAPI {
      * game client to request list of builds with player entity token.
      */
     @SuppressWarnings("unchecked")
-    private static PlayFabResult<ListBuildAliasesResponse> privateListBuildAliasesAsync(final ListBuildAliasesRequest request) throws Exception {
-        if (PlayFabSettings.EntityToken == null) throw new Exception ("Must call GetEntityToken before you can use the Entity API");
+    static PlayFabResult<ListBuildAliasesResponse> privateListBuildAliasesAsync(final PlayFabInstanceAPI instance, final ListBuildAliasesRequest request) throws Exception {
+        final PlayFabApiContext context = PlayFabInstanceAPI.contextOf(instance);
+        final String entityToken = context.getEntityToken();
+        if (entityToken == null) throw new Exception ("Must call GetEntityToken before you can use the Entity API");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/MultiplayerServer/ListBuildAliases"), request, "X-EntityToken", PlayFabSettings.EntityToken);
+        FutureTask<Object> task = PlayFabHTTP.doPost(context.getURL("/MultiplayerServer/ListBuildAliases"), request, "X-EntityToken", entityToken, ListBuildAliasesResponse.class);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -2573,9 +2573,7 @@ public class PlayFabMultiplayerAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
-
-        PlayFabJsonSuccess<ListBuildAliasesResponse> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<ListBuildAliasesResponse>>(){}.getType());
+        PlayFabJsonSuccess<ListBuildAliasesResponse> resultData = (PlayFabJsonSuccess<ListBuildAliasesResponse>) httpResult;
         ListBuildAliasesResponse result = resultData.data;
 
         PlayFabResult<ListBuildAliasesResponse> pfResult = new PlayFabResult<ListBuildAliasesResponse>();
@@ -2593,7 +2591,7 @@ public class PlayFabMultiplayerAPI {
     public static FutureTask<PlayFabResult<ListBuildSummariesResponse>> ListBuildSummariesV2Async(final ListBuildSummariesRequest request) {
         return new FutureTask(new Callable<PlayFabResult<ListBuildSummariesResponse>>() {
             public PlayFabResult<ListBuildSummariesResponse> call() throws Exception {
-                return privateListBuildSummariesV2Async(request);
+                return privateListBuildSummariesV2Async(null, request);
             }
         });
     }
@@ -2608,7 +2606,7 @@ public class PlayFabMultiplayerAPI {
     public static PlayFabResult<ListBuildSummariesResponse> ListBuildSummariesV2(final ListBuildSummariesRequest request) {
         FutureTask<PlayFabResult<ListBuildSummariesResponse>> task = new FutureTask(new Callable<PlayFabResult<ListBuildSummariesResponse>>() {
             public PlayFabResult<ListBuildSummariesResponse> call() throws Exception {
-                return privateListBuildSummariesV2Async(request);
+                return privateListBuildSummariesV2Async(null, request);
             }
         });
         try {
@@ -2626,10 +2624,12 @@ public class PlayFabMultiplayerAPI {
      * access is enabled, allows game client to request list of builds with player entity token.
      */
     @SuppressWarnings("unchecked")
-    private static PlayFabResult<ListBuildSummariesResponse> privateListBuildSummariesV2Async(final ListBuildSummariesRequest request) throws Exception {
-        if (PlayFabSettings.EntityToken == null) throw new Exception ("Must call GetEntityToken before you can use the Entity API");
+    static PlayFabResult<ListBuildSummariesResponse> privateListBuildSummariesV2Async(final PlayFabInstanceAPI instance, final ListBuildSummariesRequest request) throws Exception {
+        final PlayFabApiContext context = PlayFabInstanceAPI.contextOf(instance);
+        final String entityToken = context.getEntityToken();
+        if (entityToken == null) throw new Exception ("Must call GetEntityToken before you can use the Entity API");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/MultiplayerServer/ListBuildSummariesV2"), request, "X-EntityToken", PlayFabSettings.EntityToken);
+        FutureTask<Object> task = PlayFabHTTP.doPost(context.getURL("/MultiplayerServer/ListBuildSummariesV2"), request, "X-EntityToken", entityToken, ListBuildSummariesResponse.class);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -2640,9 +2640,7 @@ public class PlayFabMultiplayerAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
-
-        PlayFabJsonSuccess<ListBuildSummariesResponse> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<ListBuildSummariesResponse>>(){}.getType());
+        PlayFabJsonSuccess<ListBuildSummariesResponse> resultData = (PlayFabJsonSuccess<ListBuildSummariesResponse>) httpResult;
         ListBuildSummariesResponse result = resultData.data;
 
         PlayFabResult<ListBuildSummariesResponse> pfResult = new PlayFabResult<ListBuildSummariesResponse>();
@@ -2659,7 +2657,7 @@ public class PlayFabMultiplayerAPI {
     public static FutureTask<PlayFabResult<ListCertificateSummariesResponse>> ListCertificateSummariesAsync(final ListCertificateSummariesRequest request) {
         return new FutureTask(new Callable<PlayFabResult<ListCertificateSummariesResponse>>() {
             public PlayFabResult<ListCertificateSummariesResponse> call() throws Exception {
-                return privateListCertificateSummariesAsync(request);
+                return privateListCertificateSummariesAsync(null, request);
             }
         });
     }
@@ -2673,7 +2671,7 @@ public class PlayFabMultiplayerAPI {
     public static PlayFabResult<ListCertificateSummariesResponse> ListCertificateSummaries(final ListCertificateSummariesRequest request) {
         FutureTask<PlayFabResult<ListCertificateSummariesResponse>> task = new FutureTask(new Callable<PlayFabResult<ListCertificateSummariesResponse>>() {
             public PlayFabResult<ListCertificateSummariesResponse> call() throws Exception {
-                return privateListCertificateSummariesAsync(request);
+                return privateListCertificateSummariesAsync(null, request);
             }
         });
         try {
@@ -2688,10 +2686,12 @@ public class PlayFabMultiplayerAPI {
 
     /** Lists multiplayer server game certificates for a title. */
     @SuppressWarnings("unchecked")
-    private static PlayFabResult<ListCertificateSummariesResponse> privateListCertificateSummariesAsync(final ListCertificateSummariesRequest request) throws Exception {
-        if (PlayFabSettings.EntityToken == null) throw new Exception ("Must call GetEntityToken before you can use the Entity API");
+    static PlayFabResult<ListCertificateSummariesResponse> privateListCertificateSummariesAsync(final PlayFabInstanceAPI instance, final ListCertificateSummariesRequest request) throws Exception {
+        final PlayFabApiContext context = PlayFabInstanceAPI.contextOf(instance);
+        final String entityToken = context.getEntityToken();
+        if (entityToken == null) throw new Exception ("Must call GetEntityToken before you can use the Entity API");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/MultiplayerServer/ListCertificateSummaries"), request, "X-EntityToken", PlayFabSettings.EntityToken);
+        FutureTask<Object> task = PlayFabHTTP.doPost(context.getURL("/MultiplayerServer/ListCertificateSummaries"), request, "X-EntityToken", entityToken, ListCertificateSummariesResponse.class);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -2702,9 +2702,7 @@ public class PlayFabMultiplayerAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
-
-        PlayFabJsonSuccess<ListCertificateSummariesResponse> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<ListCertificateSummariesResponse>>(){}.getType());
+        PlayFabJsonSuccess<ListCertificateSummariesResponse> resultData = (PlayFabJsonSuccess<ListCertificateSummariesResponse>) httpResult;
         ListCertificateSummariesResponse result = resultData.data;
 
         PlayFabResult<ListCertificateSummariesResponse> pfResult = new PlayFabResult<ListCertificateSummariesResponse>();
@@ -2721,7 +2719,7 @@ public class PlayFabMultiplayerAPI {
     public static FutureTask<PlayFabResult<ListContainerImagesResponse>> ListContainerImagesAsync(final ListContainerImagesRequest request) {
         return new FutureTask(new Callable<PlayFabResult<ListContainerImagesResponse>>() {
             public PlayFabResult<ListContainerImagesResponse> call() throws Exception {
-                return privateListContainerImagesAsync(request);
+                return privateListContainerImagesAsync(null, request);
             }
         });
     }
@@ -2735,7 +2733,7 @@ public class PlayFabMultiplayerAPI {
     public static PlayFabResult<ListContainerImagesResponse> ListContainerImages(final ListContainerImagesRequest request) {
         FutureTask<PlayFabResult<ListContainerImagesResponse>> task = new FutureTask(new Callable<PlayFabResult<ListContainerImagesResponse>>() {
             public PlayFabResult<ListContainerImagesResponse> call() throws Exception {
-                return privateListContainerImagesAsync(request);
+                return privateListContainerImagesAsync(null, request);
             }
         });
         try {
@@ -2750,10 +2748,12 @@ public class PlayFabMultiplayerAPI {
 
     /** Lists custom container images for a title. */
     @SuppressWarnings("unchecked")
-    private static PlayFabResult<ListContainerImagesResponse> privateListContainerImagesAsync(final ListContainerImagesRequest request) throws Exception {
-        if (PlayFabSettings.EntityToken == null) throw new Exception ("Must call GetEntityToken before you can use the Entity API");
+    static PlayFabResult<ListContainerImagesResponse> privateListContainerImagesAsync(final PlayFabInstanceAPI instance, final ListContainerImagesRequest request) throws Exception {
+        final PlayFabApiContext context = PlayFabInstanceAPI.contextOf(instance);
+        final String entityToken = context.getEntityToken();
+        if (entityToken == null) throw new Exception ("Must call GetEntityToken before you can use the Entity API");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/MultiplayerServer/ListContainerImages"), request, "X-EntityToken", PlayFabSettings.EntityToken);
+        FutureTask<Object> task = PlayFabHTTP.doPost(context.getURL("/MultiplayerServer/ListContainerImages"), request, "X-EntityToken", entityToken, ListContainerImagesResponse.class);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -2764,9 +2764,7 @@ public class PlayFabMultiplayerAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
-
-        PlayFabJsonSuccess<ListContainerImagesResponse> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<ListContainerImagesResponse>>(){}.getType());
+        PlayFabJsonSuccess<ListContainerImagesResponse> resultData = (PlayFabJsonSuccess<ListContainerImagesResponse>) httpResult;
         ListContainerImagesResponse result = resultData.data;
 
         PlayFabResult<ListContainerImagesResponse> pfResult = new PlayFabResult<ListContainerImagesResponse>();
@@ -2783,7 +2781,7 @@ public class PlayFabMultiplayerAPI {
     public static FutureTask<PlayFabResult<ListContainerImageTagsResponse>> ListContainerImageTagsAsync(final ListContainerImageTagsRequest request) {
         return new FutureTask(new Callable<PlayFabResult<ListContainerImageTagsResponse>>() {
             public PlayFabResult<ListContainerImageTagsResponse> call() throws Exception {
-                return privateListContainerImageTagsAsync(request);
+                return privateListContainerImageTagsAsync(null, request);
             }
         });
     }
@@ -2797,7 +2795,7 @@ public class PlayFabMultiplayerAPI {
     public static PlayFabResult<ListContainerImageTagsResponse> ListContainerImageTags(final ListContainerImageTagsRequest request) {
         FutureTask<PlayFabResult<ListContainerImageTagsResponse>> task = new FutureTask(new Callable<PlayFabResult<ListContainerImageTagsResponse>>() {
             public PlayFabResult<ListContainerImageTagsResponse> call() throws Exception {
-                return privateListContainerImageTagsAsync(request);
+                return privateListContainerImageTagsAsync(null, request);
             }
         });
         try {
@@ -2812,10 +2810,12 @@ public class PlayFabMultiplayerAPI {
 
     /** Lists the tags for a custom container image. */
     @SuppressWarnings("unchecked")
-    private static PlayFabResult<ListContainerImageTagsResponse> privateListContainerImageTagsAsync(final ListContainerImageTagsRequest request) throws Exception {
-        if (PlayFabSettings.EntityToken == null) throw new Exception ("Must call GetEntityToken before you can use the Entity API");
+    static PlayFabResult<ListContainerImageTagsResponse> privateListContainerImageTagsAsync(final PlayFabInstanceAPI instance, final ListContainerImageTagsRequest request) throws Exception {
+        final PlayFabApiContext context = PlayFabInstanceAPI.contextOf(instance);
+        final String entityToken = context.getEntityToken();
+        if (entityToken == null) throw new Exception ("Must call GetEntityToken before you can use the Entity API");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/MultiplayerServer/ListContainerImageTags"), request, "X-EntityToken", PlayFabSettings.EntityToken);
+        FutureTask<Object> task = PlayFabHTTP.doPost(context.getURL("/MultiplayerServer/ListContainerImageTags"), request, "X-EntityToken", entityToken, ListContainerImageTagsResponse.class);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -2826,9 +2826,7 @@ public class PlayFabMultiplayerAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
-
-        PlayFabJsonSuccess<ListContainerImageTagsResponse> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<ListContainerImageTagsResponse>>(){}.getType());
+        PlayFabJsonSuccess<ListContainerImageTagsResponse> resultData = (PlayFabJsonSuccess<ListContainerImageTagsResponse>) httpResult;
         ListContainerImageTagsResponse result = resultData.data;
 
         PlayFabResult<ListContainerImageTagsResponse> pfResult = new PlayFabResult<ListContainerImageTagsResponse>();
@@ -2845,7 +2843,7 @@ public class PlayFabMultiplayerAPI {
     public static FutureTask<PlayFabResult<ListMatchmakingTicketsForPlayerResult>> ListMatchmakingTicketsForPlayerAsync(final ListMatchmakingTicketsForPlayerRequest request) {
         return new FutureTask(new Callable<PlayFabResult<ListMatchmakingTicketsForPlayerResult>>() {
             public PlayFabResult<ListMatchmakingTicketsForPlayerResult> call() throws Exception {
-                return privateListMatchmakingTicketsForPlayerAsync(request);
+                return privateListMatchmakingTicketsForPlayerAsync(null, request);
             }
         });
     }
@@ -2859,7 +2857,7 @@ public class PlayFabMultiplayerAPI {
     public static PlayFabResult<ListMatchmakingTicketsForPlayerResult> ListMatchmakingTicketsForPlayer(final ListMatchmakingTicketsForPlayerRequest request) {
         FutureTask<PlayFabResult<ListMatchmakingTicketsForPlayerResult>> task = new FutureTask(new Callable<PlayFabResult<ListMatchmakingTicketsForPlayerResult>>() {
             public PlayFabResult<ListMatchmakingTicketsForPlayerResult> call() throws Exception {
-                return privateListMatchmakingTicketsForPlayerAsync(request);
+                return privateListMatchmakingTicketsForPlayerAsync(null, request);
             }
         });
         try {
@@ -2874,10 +2872,12 @@ public class PlayFabMultiplayerAPI {
 
     /** List all matchmaking ticket Ids the user is a member of. */
     @SuppressWarnings("unchecked")
-    private static PlayFabResult<ListMatchmakingTicketsForPlayerResult> privateListMatchmakingTicketsForPlayerAsync(final ListMatchmakingTicketsForPlayerRequest request) throws Exception {
-        if (PlayFabSettings.EntityToken == null) throw new Exception ("Must call GetEntityToken before you can use the Entity API");
+    static PlayFabResult<ListMatchmakingTicketsForPlayerResult> privateListMatchmakingTicketsForPlayerAsync(final PlayFabInstanceAPI instance, final ListMatchmakingTicketsForPlayerRequest request) throws Exception {
+        final PlayFabApiContext context = PlayFabInstanceAPI.contextOf(instance);
+        final String entityToken = context.getEntityToken();
+        if (entityToken == null) throw new Exception ("Must call GetEntityToken before you can use the Entity API");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Match/ListMatchmakingTicketsForPlayer"), request, "X-EntityToken", PlayFabSettings.EntityToken);
+        FutureTask<Object> task = PlayFabHTTP.doPost(context.getURL("/Match/ListMatchmakingTicketsForPlayer"), request, "X-EntityToken", entityToken, ListMatchmakingTicketsForPlayerResult.class);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -2888,9 +2888,7 @@ public class PlayFabMultiplayerAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
-
-        PlayFabJsonSuccess<ListMatchmakingTicketsForPlayerResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<ListMatchmakingTicketsForPlayerResult>>(){}.getType());
+        PlayFabJsonSuccess<ListMatchmakingTicketsForPlayerResult> resultData = (PlayFabJsonSuccess<ListMatchmakingTicketsForPlayerResult>) httpResult;
         ListMatchmakingTicketsForPlayerResult result = resultData.data;
 
         PlayFabResult<ListMatchmakingTicketsForPlayerResult> pfResult = new PlayFabResult<ListMatchmakingTicketsForPlayerResult>();
@@ -2907,7 +2905,7 @@ public class PlayFabMultiplayerAPI {
     public static FutureTask<PlayFabResult<ListMultiplayerServersResponse>> ListMultiplayerServersAsync(final ListMultiplayerServersRequest request) {
         return new FutureTask(new Callable<PlayFabResult<ListMultiplayerServersResponse>>() {
             public PlayFabResult<ListMultiplayerServersResponse> call() throws Exception {
-                return privateListMultiplayerServersAsync(request);
+                return privateListMultiplayerServersAsync(null, request);
             }
         });
     }
@@ -2921,7 +2919,7 @@ public class PlayFabMultiplayerAPI {
     public static PlayFabResult<ListMultiplayerServersResponse> ListMultiplayerServers(final ListMultiplayerServersRequest request) {
         FutureTask<PlayFabResult<ListMultiplayerServersResponse>> task = new FutureTask(new Callable<PlayFabResult<ListMultiplayerServersResponse>>() {
             public PlayFabResult<ListMultiplayerServersResponse> call() throws Exception {
-                return privateListMultiplayerServersAsync(request);
+                return privateListMultiplayerServersAsync(null, request);
             }
         });
         try {
@@ -2936,10 +2934,12 @@ public class PlayFabMultiplayerAPI {
 
     /** Lists multiplayer server sessions for a build. */
     @SuppressWarnings("unchecked")
-    private static PlayFabResult<ListMultiplayerServersResponse> privateListMultiplayerServersAsync(final ListMultiplayerServersRequest request) throws Exception {
-        if (PlayFabSettings.EntityToken == null) throw new Exception ("Must call GetEntityToken before you can use the Entity API");
+    static PlayFabResult<ListMultiplayerServersResponse> privateListMultiplayerServersAsync(final PlayFabInstanceAPI instance, final ListMultiplayerServersRequest request) throws Exception {
+        final PlayFabApiContext context = PlayFabInstanceAPI.contextOf(instance);
+        final String entityToken = context.getEntityToken();
+        if (entityToken == null) throw new Exception ("Must call GetEntityToken before you can use the Entity API");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/MultiplayerServer/ListMultiplayerServers"), request, "X-EntityToken", PlayFabSettings.EntityToken);
+        FutureTask<Object> task = PlayFabHTTP.doPost(context.getURL("/MultiplayerServer/ListMultiplayerServers"), request, "X-EntityToken", entityToken, ListMultiplayerServersResponse.class);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -2950,9 +2950,7 @@ public class PlayFabMultiplayerAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
-
-        PlayFabJsonSuccess<ListMultiplayerServersResponse> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<ListMultiplayerServersResponse>>(){}.getType());
+        PlayFabJsonSuccess<ListMultiplayerServersResponse> resultData = (PlayFabJsonSuccess<ListMultiplayerServersResponse>) httpResult;
         ListMultiplayerServersResponse result = resultData.data;
 
         PlayFabResult<ListMultiplayerServersResponse> pfResult = new PlayFabResult<ListMultiplayerServersResponse>();
@@ -2969,7 +2967,7 @@ public class PlayFabMultiplayerAPI {
     public static FutureTask<PlayFabResult<ListPartyQosServersResponse>> ListPartyQosServersAsync(final ListPartyQosServersRequest request) {
         return new FutureTask(new Callable<PlayFabResult<ListPartyQosServersResponse>>() {
             public PlayFabResult<ListPartyQosServersResponse> call() throws Exception {
-                return privateListPartyQosServersAsync(request);
+                return privateListPartyQosServersAsync(null, request);
             }
         });
     }
@@ -2983,7 +2981,7 @@ public class PlayFabMultiplayerAPI {
     public static PlayFabResult<ListPartyQosServersResponse> ListPartyQosServers(final ListPartyQosServersRequest request) {
         FutureTask<PlayFabResult<ListPartyQosServersResponse>> task = new FutureTask(new Callable<PlayFabResult<ListPartyQosServersResponse>>() {
             public PlayFabResult<ListPartyQosServersResponse> call() throws Exception {
-                return privateListPartyQosServersAsync(request);
+                return privateListPartyQosServersAsync(null, request);
             }
         });
         try {
@@ -2998,9 +2996,10 @@ public class PlayFabMultiplayerAPI {
 
     /** Lists quality of service servers for party. */
     @SuppressWarnings("unchecked")
-    private static PlayFabResult<ListPartyQosServersResponse> privateListPartyQosServersAsync(final ListPartyQosServersRequest request) throws Exception {
+    static PlayFabResult<ListPartyQosServersResponse> privateListPartyQosServersAsync(final PlayFabInstanceAPI instance, final ListPartyQosServersRequest request) throws Exception {
+        final PlayFabApiContext context = PlayFabInstanceAPI.contextOf(instance);
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/MultiplayerServer/ListPartyQosServers"), request, null, null);
+        FutureTask<Object> task = PlayFabHTTP.doPost(context.getURL("/MultiplayerServer/ListPartyQosServers"), request, null, null, ListPartyQosServersResponse.class);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -3011,9 +3010,7 @@ public class PlayFabMultiplayerAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
-
-        PlayFabJsonSuccess<ListPartyQosServersResponse> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<ListPartyQosServersResponse>>(){}.getType());
+        PlayFabJsonSuccess<ListPartyQosServersResponse> resultData = (PlayFabJsonSuccess<ListPartyQosServersResponse>) httpResult;
         ListPartyQosServersResponse result = resultData.data;
 
         PlayFabResult<ListPartyQosServersResponse> pfResult = new PlayFabResult<ListPartyQosServersResponse>();
@@ -3031,7 +3028,7 @@ public class PlayFabMultiplayerAPI {
     public static FutureTask<PlayFabResult<ListQosServersForTitleResponse>> ListQosServersForTitleAsync(final ListQosServersForTitleRequest request) {
         return new FutureTask(new Callable<PlayFabResult<ListQosServersForTitleResponse>>() {
             public PlayFabResult<ListQosServersForTitleResponse> call() throws Exception {
-                return privateListQosServersForTitleAsync(request);
+                return privateListQosServersForTitleAsync(null, request);
             }
         });
     }
@@ -3046,7 +3043,7 @@ public class PlayFabMultiplayerAPI {
     public static PlayFabResult<ListQosServersForTitleResponse> ListQosServersForTitle(final ListQosServersForTitleRequest request) {
         FutureTask<PlayFabResult<ListQosServersForTitleResponse>> task = new FutureTask(new Callable<PlayFabResult<ListQosServersForTitleResponse>>() {
             public PlayFabResult<ListQosServersForTitleResponse> call() throws Exception {
-                return privateListQosServersForTitleAsync(request);
+                return privateListQosServersForTitleAsync(null, request);
             }
         });
         try {
@@ -3064,10 +3061,12 @@ public class PlayFabMultiplayerAPI {
      * Servers build has been deployed.
      */
     @SuppressWarnings("unchecked")
-    private static PlayFabResult<ListQosServersForTitleResponse> privateListQosServersForTitleAsync(final ListQosServersForTitleRequest request) throws Exception {
-        if (PlayFabSettings.EntityToken == null) throw new Exception ("Must call GetEntityToken before you can use the Entity API");
+    static PlayFabResult<ListQosServersForTitleResponse> privateListQosServersForTitleAsync(final PlayFabInstanceAPI instance, final ListQosServersForTitleRequest request) throws Exception {
+        final PlayFabApiContext context = PlayFabInstanceAPI.contextOf(instance);
+        final String entityToken = context.getEntityToken();
+        if (entityToken == null) throw new Exception ("Must call GetEntityToken before you can use the Entity API");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/MultiplayerServer/ListQosServersForTitle"), request, "X-EntityToken", PlayFabSettings.EntityToken);
+        FutureTask<Object> task = PlayFabHTTP.doPost(context.getURL("/MultiplayerServer/ListQosServersForTitle"), request, "X-EntityToken", entityToken, ListQosServersForTitleResponse.class);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -3078,9 +3077,7 @@ public class PlayFabMultiplayerAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
-
-        PlayFabJsonSuccess<ListQosServersForTitleResponse> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<ListQosServersForTitleResponse>>(){}.getType());
+        PlayFabJsonSuccess<ListQosServersForTitleResponse> resultData = (PlayFabJsonSuccess<ListQosServersForTitleResponse>) httpResult;
         ListQosServersForTitleResponse result = resultData.data;
 
         PlayFabResult<ListQosServersForTitleResponse> pfResult = new PlayFabResult<ListQosServersForTitleResponse>();
@@ -3097,7 +3094,7 @@ public class PlayFabMultiplayerAPI {
     public static FutureTask<PlayFabResult<ListServerBackfillTicketsForPlayerResult>> ListServerBackfillTicketsForPlayerAsync(final ListServerBackfillTicketsForPlayerRequest request) {
         return new FutureTask(new Callable<PlayFabResult<ListServerBackfillTicketsForPlayerResult>>() {
             public PlayFabResult<ListServerBackfillTicketsForPlayerResult> call() throws Exception {
-                return privateListServerBackfillTicketsForPlayerAsync(request);
+                return privateListServerBackfillTicketsForPlayerAsync(null, request);
             }
         });
     }
@@ -3111,7 +3108,7 @@ public class PlayFabMultiplayerAPI {
     public static PlayFabResult<ListServerBackfillTicketsForPlayerResult> ListServerBackfillTicketsForPlayer(final ListServerBackfillTicketsForPlayerRequest request) {
         FutureTask<PlayFabResult<ListServerBackfillTicketsForPlayerResult>> task = new FutureTask(new Callable<PlayFabResult<ListServerBackfillTicketsForPlayerResult>>() {
             public PlayFabResult<ListServerBackfillTicketsForPlayerResult> call() throws Exception {
-                return privateListServerBackfillTicketsForPlayerAsync(request);
+                return privateListServerBackfillTicketsForPlayerAsync(null, request);
             }
         });
         try {
@@ -3126,10 +3123,12 @@ public class PlayFabMultiplayerAPI {
 
     /** List all server backfill ticket Ids the user is a member of. */
     @SuppressWarnings("unchecked")
-    private static PlayFabResult<ListServerBackfillTicketsForPlayerResult> privateListServerBackfillTicketsForPlayerAsync(final ListServerBackfillTicketsForPlayerRequest request) throws Exception {
-        if (PlayFabSettings.EntityToken == null) throw new Exception ("Must call GetEntityToken before you can use the Entity API");
+    static PlayFabResult<ListServerBackfillTicketsForPlayerResult> privateListServerBackfillTicketsForPlayerAsync(final PlayFabInstanceAPI instance, final ListServerBackfillTicketsForPlayerRequest request) throws Exception {
+        final PlayFabApiContext context = PlayFabInstanceAPI.contextOf(instance);
+        final String entityToken = context.getEntityToken();
+        if (entityToken == null) throw new Exception ("Must call GetEntityToken before you can use the Entity API");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/Match/ListServerBackfillTicketsForPlayer"), request, "X-EntityToken", PlayFabSettings.EntityToken);
+        FutureTask<Object> task = PlayFabHTTP.doPost(context.getURL("/Match/ListServerBackfillTicketsForPlayer"), request, "X-EntityToken", entityToken, ListServerBackfillTicketsForPlayerResult.class);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -3140,9 +3139,7 @@ public class PlayFabMultiplayerAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
-
-        PlayFabJsonSuccess<ListServerBackfillTicketsForPlayerResult> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<ListServerBackfillTicketsForPlayerResult>>(){}.getType());
+        PlayFabJsonSuccess<ListServerBackfillTicketsForPlayerResult> resultData = (PlayFabJsonSuccess<ListServerBackfillTicketsForPlayerResult>) httpResult;
         ListServerBackfillTicketsForPlayerResult result = resultData.data;
 
         PlayFabResult<ListServerBackfillTicketsForPlayerResult> pfResult = new PlayFabResult<ListServerBackfillTicketsForPlayerResult>();
@@ -3159,7 +3156,7 @@ public class PlayFabMultiplayerAPI {
     public static FutureTask<PlayFabResult<ListTitleMultiplayerServersQuotaChangesResponse>> ListTitleMultiplayerServersQuotaChangesAsync(final ListTitleMultiplayerServersQuotaChangesRequest request) {
         return new FutureTask(new Callable<PlayFabResult<ListTitleMultiplayerServersQuotaChangesResponse>>() {
             public PlayFabResult<ListTitleMultiplayerServersQuotaChangesResponse> call() throws Exception {
-                return privateListTitleMultiplayerServersQuotaChangesAsync(request);
+                return privateListTitleMultiplayerServersQuotaChangesAsync(null, request);
             }
         });
     }
@@ -3173,7 +3170,7 @@ public class PlayFabMultiplayerAPI {
     public static PlayFabResult<ListTitleMultiplayerServersQuotaChangesResponse> ListTitleMultiplayerServersQuotaChanges(final ListTitleMultiplayerServersQuotaChangesRequest request) {
         FutureTask<PlayFabResult<ListTitleMultiplayerServersQuotaChangesResponse>> task = new FutureTask(new Callable<PlayFabResult<ListTitleMultiplayerServersQuotaChangesResponse>>() {
             public PlayFabResult<ListTitleMultiplayerServersQuotaChangesResponse> call() throws Exception {
-                return privateListTitleMultiplayerServersQuotaChangesAsync(request);
+                return privateListTitleMultiplayerServersQuotaChangesAsync(null, request);
             }
         });
         try {
@@ -3188,10 +3185,12 @@ public class PlayFabMultiplayerAPI {
 
     /** List all server quota change requests for a title. */
     @SuppressWarnings("unchecked")
-    private static PlayFabResult<ListTitleMultiplayerServersQuotaChangesResponse> privateListTitleMultiplayerServersQuotaChangesAsync(final ListTitleMultiplayerServersQuotaChangesRequest request) throws Exception {
-        if (PlayFabSettings.EntityToken == null) throw new Exception ("Must call GetEntityToken before you can use the Entity API");
+    static PlayFabResult<ListTitleMultiplayerServersQuotaChangesResponse> privateListTitleMultiplayerServersQuotaChangesAsync(final PlayFabInstanceAPI instance, final ListTitleMultiplayerServersQuotaChangesRequest request) throws Exception {
+        final PlayFabApiContext context = PlayFabInstanceAPI.contextOf(instance);
+        final String entityToken = context.getEntityToken();
+        if (entityToken == null) throw new Exception ("Must call GetEntityToken before you can use the Entity API");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/MultiplayerServer/ListTitleMultiplayerServersQuotaChanges"), request, "X-EntityToken", PlayFabSettings.EntityToken);
+        FutureTask<Object> task = PlayFabHTTP.doPost(context.getURL("/MultiplayerServer/ListTitleMultiplayerServersQuotaChanges"), request, "X-EntityToken", entityToken, ListTitleMultiplayerServersQuotaChangesResponse.class);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -3202,9 +3201,7 @@ public class PlayFabMultiplayerAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
-
-        PlayFabJsonSuccess<ListTitleMultiplayerServersQuotaChangesResponse> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<ListTitleMultiplayerServersQuotaChangesResponse>>(){}.getType());
+        PlayFabJsonSuccess<ListTitleMultiplayerServersQuotaChangesResponse> resultData = (PlayFabJsonSuccess<ListTitleMultiplayerServersQuotaChangesResponse>) httpResult;
         ListTitleMultiplayerServersQuotaChangesResponse result = resultData.data;
 
         PlayFabResult<ListTitleMultiplayerServersQuotaChangesResponse> pfResult = new PlayFabResult<ListTitleMultiplayerServersQuotaChangesResponse>();
@@ -3221,7 +3218,7 @@ public class PlayFabMultiplayerAPI {
     public static FutureTask<PlayFabResult<ListVirtualMachineSummariesResponse>> ListVirtualMachineSummariesAsync(final ListVirtualMachineSummariesRequest request) {
         return new FutureTask(new Callable<PlayFabResult<ListVirtualMachineSummariesResponse>>() {
             public PlayFabResult<ListVirtualMachineSummariesResponse> call() throws Exception {
-                return privateListVirtualMachineSummariesAsync(request);
+                return privateListVirtualMachineSummariesAsync(null, request);
             }
         });
     }
@@ -3235,7 +3232,7 @@ public class PlayFabMultiplayerAPI {
     public static PlayFabResult<ListVirtualMachineSummariesResponse> ListVirtualMachineSummaries(final ListVirtualMachineSummariesRequest request) {
         FutureTask<PlayFabResult<ListVirtualMachineSummariesResponse>> task = new FutureTask(new Callable<PlayFabResult<ListVirtualMachineSummariesResponse>>() {
             public PlayFabResult<ListVirtualMachineSummariesResponse> call() throws Exception {
-                return privateListVirtualMachineSummariesAsync(request);
+                return privateListVirtualMachineSummariesAsync(null, request);
             }
         });
         try {
@@ -3250,10 +3247,12 @@ public class PlayFabMultiplayerAPI {
 
     /** Lists virtual machines for a title. */
     @SuppressWarnings("unchecked")
-    private static PlayFabResult<ListVirtualMachineSummariesResponse> privateListVirtualMachineSummariesAsync(final ListVirtualMachineSummariesRequest request) throws Exception {
-        if (PlayFabSettings.EntityToken == null) throw new Exception ("Must call GetEntityToken before you can use the Entity API");
+    static PlayFabResult<ListVirtualMachineSummariesResponse> privateListVirtualMachineSummariesAsync(final PlayFabInstanceAPI instance, final ListVirtualMachineSummariesRequest request) throws Exception {
+        final PlayFabApiContext context = PlayFabInstanceAPI.contextOf(instance);
+        final String entityToken = context.getEntityToken();
+        if (entityToken == null) throw new Exception ("Must call GetEntityToken before you can use the Entity API");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/MultiplayerServer/ListVirtualMachineSummaries"), request, "X-EntityToken", PlayFabSettings.EntityToken);
+        FutureTask<Object> task = PlayFabHTTP.doPost(context.getURL("/MultiplayerServer/ListVirtualMachineSummaries"), request, "X-EntityToken", entityToken, ListVirtualMachineSummariesResponse.class);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -3264,9 +3263,7 @@ public class PlayFabMultiplayerAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
-
-        PlayFabJsonSuccess<ListVirtualMachineSummariesResponse> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<ListVirtualMachineSummariesResponse>>(){}.getType());
+        PlayFabJsonSuccess<ListVirtualMachineSummariesResponse> resultData = (PlayFabJsonSuccess<ListVirtualMachineSummariesResponse>) httpResult;
         ListVirtualMachineSummariesResponse result = resultData.data;
 
         PlayFabResult<ListVirtualMachineSummariesResponse> pfResult = new PlayFabResult<ListVirtualMachineSummariesResponse>();
@@ -3284,7 +3281,7 @@ public class PlayFabMultiplayerAPI {
     public static FutureTask<PlayFabResult<RequestMultiplayerServerResponse>> RequestMultiplayerServerAsync(final RequestMultiplayerServerRequest request) {
         return new FutureTask(new Callable<PlayFabResult<RequestMultiplayerServerResponse>>() {
             public PlayFabResult<RequestMultiplayerServerResponse> call() throws Exception {
-                return privateRequestMultiplayerServerAsync(request);
+                return privateRequestMultiplayerServerAsync(null, request);
             }
         });
     }
@@ -3299,7 +3296,7 @@ public class PlayFabMultiplayerAPI {
     public static PlayFabResult<RequestMultiplayerServerResponse> RequestMultiplayerServer(final RequestMultiplayerServerRequest request) {
         FutureTask<PlayFabResult<RequestMultiplayerServerResponse>> task = new FutureTask(new Callable<PlayFabResult<RequestMultiplayerServerResponse>>() {
             public PlayFabResult<RequestMultiplayerServerResponse> call() throws Exception {
-                return privateRequestMultiplayerServerAsync(request);
+                return privateRequestMultiplayerServerAsync(null, request);
             }
         });
         try {
@@ -3317,10 +3314,12 @@ public class PlayFabMultiplayerAPI {
      * to request a server with player entity token.
      */
     @SuppressWarnings("unchecked")
-    private static PlayFabResult<RequestMultiplayerServerResponse> privateRequestMultiplayerServerAsync(final RequestMultiplayerServerRequest request) throws Exception {
-        if (PlayFabSettings.EntityToken == null) throw new Exception ("Must call GetEntityToken before you can use the Entity API");
+    static PlayFabResult<RequestMultiplayerServerResponse> privateRequestMultiplayerServerAsync(final PlayFabInstanceAPI instance, final RequestMultiplayerServerRequest request) throws Exception {
+        final PlayFabApiContext context = PlayFabInstanceAPI.contextOf(instance);
+        final String entityToken = context.getEntityToken();
+        if (entityToken == null) throw new Exception ("Must call GetEntityToken before you can use the Entity API");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/MultiplayerServer/RequestMultiplayerServer"), request, "X-EntityToken", PlayFabSettings.EntityToken);
+        FutureTask<Object> task = PlayFabHTTP.doPost(context.getURL("/MultiplayerServer/RequestMultiplayerServer"), request, "X-EntityToken", entityToken, RequestMultiplayerServerResponse.class);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -3331,9 +3330,7 @@ public class PlayFabMultiplayerAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
-
-        PlayFabJsonSuccess<RequestMultiplayerServerResponse> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<RequestMultiplayerServerResponse>>(){}.getType());
+        PlayFabJsonSuccess<RequestMultiplayerServerResponse> resultData = (PlayFabJsonSuccess<RequestMultiplayerServerResponse>) httpResult;
         RequestMultiplayerServerResponse result = resultData.data;
 
         PlayFabResult<RequestMultiplayerServerResponse> pfResult = new PlayFabResult<RequestMultiplayerServerResponse>();
@@ -3350,7 +3347,7 @@ public class PlayFabMultiplayerAPI {
     public static FutureTask<PlayFabResult<RolloverContainerRegistryCredentialsResponse>> RolloverContainerRegistryCredentialsAsync(final RolloverContainerRegistryCredentialsRequest request) {
         return new FutureTask(new Callable<PlayFabResult<RolloverContainerRegistryCredentialsResponse>>() {
             public PlayFabResult<RolloverContainerRegistryCredentialsResponse> call() throws Exception {
-                return privateRolloverContainerRegistryCredentialsAsync(request);
+                return privateRolloverContainerRegistryCredentialsAsync(null, request);
             }
         });
     }
@@ -3364,7 +3361,7 @@ public class PlayFabMultiplayerAPI {
     public static PlayFabResult<RolloverContainerRegistryCredentialsResponse> RolloverContainerRegistryCredentials(final RolloverContainerRegistryCredentialsRequest request) {
         FutureTask<PlayFabResult<RolloverContainerRegistryCredentialsResponse>> task = new FutureTask(new Callable<PlayFabResult<RolloverContainerRegistryCredentialsResponse>>() {
             public PlayFabResult<RolloverContainerRegistryCredentialsResponse> call() throws Exception {
-                return privateRolloverContainerRegistryCredentialsAsync(request);
+                return privateRolloverContainerRegistryCredentialsAsync(null, request);
             }
         });
         try {
@@ -3379,10 +3376,12 @@ public class PlayFabMultiplayerAPI {
 
     /** Rolls over the credentials to the container registry. */
     @SuppressWarnings("unchecked")
-    private static PlayFabResult<RolloverContainerRegistryCredentialsResponse> privateRolloverContainerRegistryCredentialsAsync(final RolloverContainerRegistryCredentialsRequest request) throws Exception {
-        if (PlayFabSettings.EntityToken == null) throw new Exception ("Must call GetEntityToken before you can use the Entity API");
+    static PlayFabResult<RolloverContainerRegistryCredentialsResponse> privateRolloverContainerRegistryCredentialsAsync(final PlayFabInstanceAPI instance, final RolloverContainerRegistryCredentialsRequest request) throws Exception {
+        final PlayFabApiContext context = PlayFabInstanceAPI.contextOf(instance);
+        final String entityToken = context.getEntityToken();
+        if (entityToken == null) throw new Exception ("Must call GetEntityToken before you can use the Entity API");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/MultiplayerServer/RolloverContainerRegistryCredentials"), request, "X-EntityToken", PlayFabSettings.EntityToken);
+        FutureTask<Object> task = PlayFabHTTP.doPost(context.getURL("/MultiplayerServer/RolloverContainerRegistryCredentials"), request, "X-EntityToken", entityToken, RolloverContainerRegistryCredentialsResponse.class);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -3393,9 +3392,7 @@ public class PlayFabMultiplayerAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
-
-        PlayFabJsonSuccess<RolloverContainerRegistryCredentialsResponse> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<RolloverContainerRegistryCredentialsResponse>>(){}.getType());
+        PlayFabJsonSuccess<RolloverContainerRegistryCredentialsResponse> resultData = (PlayFabJsonSuccess<RolloverContainerRegistryCredentialsResponse>) httpResult;
         RolloverContainerRegistryCredentialsResponse result = resultData.data;
 
         PlayFabResult<RolloverContainerRegistryCredentialsResponse> pfResult = new PlayFabResult<RolloverContainerRegistryCredentialsResponse>();
@@ -3412,7 +3409,7 @@ public class PlayFabMultiplayerAPI {
     public static FutureTask<PlayFabResult<EmptyResponse>> ShutdownMultiplayerServerAsync(final ShutdownMultiplayerServerRequest request) {
         return new FutureTask(new Callable<PlayFabResult<EmptyResponse>>() {
             public PlayFabResult<EmptyResponse> call() throws Exception {
-                return privateShutdownMultiplayerServerAsync(request);
+                return privateShutdownMultiplayerServerAsync(null, request);
             }
         });
     }
@@ -3426,7 +3423,7 @@ public class PlayFabMultiplayerAPI {
     public static PlayFabResult<EmptyResponse> ShutdownMultiplayerServer(final ShutdownMultiplayerServerRequest request) {
         FutureTask<PlayFabResult<EmptyResponse>> task = new FutureTask(new Callable<PlayFabResult<EmptyResponse>>() {
             public PlayFabResult<EmptyResponse> call() throws Exception {
-                return privateShutdownMultiplayerServerAsync(request);
+                return privateShutdownMultiplayerServerAsync(null, request);
             }
         });
         try {
@@ -3441,10 +3438,12 @@ public class PlayFabMultiplayerAPI {
 
     /** Shuts down a multiplayer server session. */
     @SuppressWarnings("unchecked")
-    private static PlayFabResult<EmptyResponse> privateShutdownMultiplayerServerAsync(final ShutdownMultiplayerServerRequest request) throws Exception {
-        if (PlayFabSettings.EntityToken == null) throw new Exception ("Must call GetEntityToken before you can use the Entity API");
+    static PlayFabResult<EmptyResponse> privateShutdownMultiplayerServerAsync(final PlayFabInstanceAPI instance, final ShutdownMultiplayerServerRequest request) throws Exception {
+        final PlayFabApiContext context = PlayFabInstanceAPI.contextOf(instance);
+        final String entityToken = context.getEntityToken();
+        if (entityToken == null) throw new Exception ("Must call GetEntityToken before you can use the Entity API");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/MultiplayerServer/ShutdownMultiplayerServer"), request, "X-EntityToken", PlayFabSettings.EntityToken);
+        FutureTask<Object> task = PlayFabHTTP.doPost(context.getURL("/MultiplayerServer/ShutdownMultiplayerServer"), request, "X-EntityToken", entityToken, EmptyResponse.class);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -3455,9 +3454,7 @@ public class PlayFabMultiplayerAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
-
-        PlayFabJsonSuccess<EmptyResponse> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<EmptyResponse>>(){}.getType());
+        PlayFabJsonSuccess<EmptyResponse> resultData = (PlayFabJsonSuccess<EmptyResponse>) httpResult;
         EmptyResponse result = resultData.data;
 
         PlayFabResult<EmptyResponse> pfResult = new PlayFabResult<EmptyResponse>();
@@ -3474,7 +3471,7 @@ public class PlayFabMultiplayerAPI {
     public static FutureTask<PlayFabResult<EmptyResponse>> UntagContainerImageAsync(final UntagContainerImageRequest request) {
         return new FutureTask(new Callable<PlayFabResult<EmptyResponse>>() {
             public PlayFabResult<EmptyResponse> call() throws Exception {
-                return privateUntagContainerImageAsync(request);
+                return privateUntagContainerImageAsync(null, request);
             }
         });
     }
@@ -3488,7 +3485,7 @@ public class PlayFabMultiplayerAPI {
     public static PlayFabResult<EmptyResponse> UntagContainerImage(final UntagContainerImageRequest request) {
         FutureTask<PlayFabResult<EmptyResponse>> task = new FutureTask(new Callable<PlayFabResult<EmptyResponse>>() {
             public PlayFabResult<EmptyResponse> call() throws Exception {
-                return privateUntagContainerImageAsync(request);
+                return privateUntagContainerImageAsync(null, request);
             }
         });
         try {
@@ -3503,10 +3500,12 @@ public class PlayFabMultiplayerAPI {
 
     /** Untags a container image. */
     @SuppressWarnings("unchecked")
-    private static PlayFabResult<EmptyResponse> privateUntagContainerImageAsync(final UntagContainerImageRequest request) throws Exception {
-        if (PlayFabSettings.EntityToken == null) throw new Exception ("Must call GetEntityToken before you can use the Entity API");
+    static PlayFabResult<EmptyResponse> privateUntagContainerImageAsync(final PlayFabInstanceAPI instance, final UntagContainerImageRequest request) throws Exception {
+        final PlayFabApiContext context = PlayFabInstanceAPI.contextOf(instance);
+        final String entityToken = context.getEntityToken();
+        if (entityToken == null) throw new Exception ("Must call GetEntityToken before you can use the Entity API");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/MultiplayerServer/UntagContainerImage"), request, "X-EntityToken", PlayFabSettings.EntityToken);
+        FutureTask<Object> task = PlayFabHTTP.doPost(context.getURL("/MultiplayerServer/UntagContainerImage"), request, "X-EntityToken", entityToken, EmptyResponse.class);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -3517,9 +3516,7 @@ public class PlayFabMultiplayerAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
-
-        PlayFabJsonSuccess<EmptyResponse> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<EmptyResponse>>(){}.getType());
+        PlayFabJsonSuccess<EmptyResponse> resultData = (PlayFabJsonSuccess<EmptyResponse>) httpResult;
         EmptyResponse result = resultData.data;
 
         PlayFabResult<EmptyResponse> pfResult = new PlayFabResult<EmptyResponse>();
@@ -3536,7 +3533,7 @@ public class PlayFabMultiplayerAPI {
     public static FutureTask<PlayFabResult<BuildAliasDetailsResponse>> UpdateBuildAliasAsync(final UpdateBuildAliasRequest request) {
         return new FutureTask(new Callable<PlayFabResult<BuildAliasDetailsResponse>>() {
             public PlayFabResult<BuildAliasDetailsResponse> call() throws Exception {
-                return privateUpdateBuildAliasAsync(request);
+                return privateUpdateBuildAliasAsync(null, request);
             }
         });
     }
@@ -3550,7 +3547,7 @@ public class PlayFabMultiplayerAPI {
     public static PlayFabResult<BuildAliasDetailsResponse> UpdateBuildAlias(final UpdateBuildAliasRequest request) {
         FutureTask<PlayFabResult<BuildAliasDetailsResponse>> task = new FutureTask(new Callable<PlayFabResult<BuildAliasDetailsResponse>>() {
             public PlayFabResult<BuildAliasDetailsResponse> call() throws Exception {
-                return privateUpdateBuildAliasAsync(request);
+                return privateUpdateBuildAliasAsync(null, request);
             }
         });
         try {
@@ -3565,10 +3562,12 @@ public class PlayFabMultiplayerAPI {
 
     /** Creates a multiplayer server build alias. */
     @SuppressWarnings("unchecked")
-    private static PlayFabResult<BuildAliasDetailsResponse> privateUpdateBuildAliasAsync(final UpdateBuildAliasRequest request) throws Exception {
-        if (PlayFabSettings.EntityToken == null) throw new Exception ("Must call GetEntityToken before you can use the Entity API");
+    static PlayFabResult<BuildAliasDetailsResponse> privateUpdateBuildAliasAsync(final PlayFabInstanceAPI instance, final UpdateBuildAliasRequest request) throws Exception {
+        final PlayFabApiContext context = PlayFabInstanceAPI.contextOf(instance);
+        final String entityToken = context.getEntityToken();
+        if (entityToken == null) throw new Exception ("Must call GetEntityToken before you can use the Entity API");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/MultiplayerServer/UpdateBuildAlias"), request, "X-EntityToken", PlayFabSettings.EntityToken);
+        FutureTask<Object> task = PlayFabHTTP.doPost(context.getURL("/MultiplayerServer/UpdateBuildAlias"), request, "X-EntityToken", entityToken, BuildAliasDetailsResponse.class);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -3579,9 +3578,7 @@ public class PlayFabMultiplayerAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
-
-        PlayFabJsonSuccess<BuildAliasDetailsResponse> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<BuildAliasDetailsResponse>>(){}.getType());
+        PlayFabJsonSuccess<BuildAliasDetailsResponse> resultData = (PlayFabJsonSuccess<BuildAliasDetailsResponse>) httpResult;
         BuildAliasDetailsResponse result = resultData.data;
 
         PlayFabResult<BuildAliasDetailsResponse> pfResult = new PlayFabResult<BuildAliasDetailsResponse>();
@@ -3598,7 +3595,7 @@ public class PlayFabMultiplayerAPI {
     public static FutureTask<PlayFabResult<EmptyResponse>> UpdateBuildNameAsync(final UpdateBuildNameRequest request) {
         return new FutureTask(new Callable<PlayFabResult<EmptyResponse>>() {
             public PlayFabResult<EmptyResponse> call() throws Exception {
-                return privateUpdateBuildNameAsync(request);
+                return privateUpdateBuildNameAsync(null, request);
             }
         });
     }
@@ -3612,7 +3609,7 @@ public class PlayFabMultiplayerAPI {
     public static PlayFabResult<EmptyResponse> UpdateBuildName(final UpdateBuildNameRequest request) {
         FutureTask<PlayFabResult<EmptyResponse>> task = new FutureTask(new Callable<PlayFabResult<EmptyResponse>>() {
             public PlayFabResult<EmptyResponse> call() throws Exception {
-                return privateUpdateBuildNameAsync(request);
+                return privateUpdateBuildNameAsync(null, request);
             }
         });
         try {
@@ -3627,10 +3624,12 @@ public class PlayFabMultiplayerAPI {
 
     /** Updates a multiplayer server build's name. */
     @SuppressWarnings("unchecked")
-    private static PlayFabResult<EmptyResponse> privateUpdateBuildNameAsync(final UpdateBuildNameRequest request) throws Exception {
-        if (PlayFabSettings.EntityToken == null) throw new Exception ("Must call GetEntityToken before you can use the Entity API");
+    static PlayFabResult<EmptyResponse> privateUpdateBuildNameAsync(final PlayFabInstanceAPI instance, final UpdateBuildNameRequest request) throws Exception {
+        final PlayFabApiContext context = PlayFabInstanceAPI.contextOf(instance);
+        final String entityToken = context.getEntityToken();
+        if (entityToken == null) throw new Exception ("Must call GetEntityToken before you can use the Entity API");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/MultiplayerServer/UpdateBuildName"), request, "X-EntityToken", PlayFabSettings.EntityToken);
+        FutureTask<Object> task = PlayFabHTTP.doPost(context.getURL("/MultiplayerServer/UpdateBuildName"), request, "X-EntityToken", entityToken, EmptyResponse.class);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -3641,9 +3640,7 @@ public class PlayFabMultiplayerAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
-
-        PlayFabJsonSuccess<EmptyResponse> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<EmptyResponse>>(){}.getType());
+        PlayFabJsonSuccess<EmptyResponse> resultData = (PlayFabJsonSuccess<EmptyResponse>) httpResult;
         EmptyResponse result = resultData.data;
 
         PlayFabResult<EmptyResponse> pfResult = new PlayFabResult<EmptyResponse>();
@@ -3660,7 +3657,7 @@ public class PlayFabMultiplayerAPI {
     public static FutureTask<PlayFabResult<EmptyResponse>> UpdateBuildRegionAsync(final UpdateBuildRegionRequest request) {
         return new FutureTask(new Callable<PlayFabResult<EmptyResponse>>() {
             public PlayFabResult<EmptyResponse> call() throws Exception {
-                return privateUpdateBuildRegionAsync(request);
+                return privateUpdateBuildRegionAsync(null, request);
             }
         });
     }
@@ -3674,7 +3671,7 @@ public class PlayFabMultiplayerAPI {
     public static PlayFabResult<EmptyResponse> UpdateBuildRegion(final UpdateBuildRegionRequest request) {
         FutureTask<PlayFabResult<EmptyResponse>> task = new FutureTask(new Callable<PlayFabResult<EmptyResponse>>() {
             public PlayFabResult<EmptyResponse> call() throws Exception {
-                return privateUpdateBuildRegionAsync(request);
+                return privateUpdateBuildRegionAsync(null, request);
             }
         });
         try {
@@ -3689,10 +3686,12 @@ public class PlayFabMultiplayerAPI {
 
     /** Updates a multiplayer server build's region. If the region is not yet created, it will be created */
     @SuppressWarnings("unchecked")
-    private static PlayFabResult<EmptyResponse> privateUpdateBuildRegionAsync(final UpdateBuildRegionRequest request) throws Exception {
-        if (PlayFabSettings.EntityToken == null) throw new Exception ("Must call GetEntityToken before you can use the Entity API");
+    static PlayFabResult<EmptyResponse> privateUpdateBuildRegionAsync(final PlayFabInstanceAPI instance, final UpdateBuildRegionRequest request) throws Exception {
+        final PlayFabApiContext context = PlayFabInstanceAPI.contextOf(instance);
+        final String entityToken = context.getEntityToken();
+        if (entityToken == null) throw new Exception ("Must call GetEntityToken before you can use the Entity API");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/MultiplayerServer/UpdateBuildRegion"), request, "X-EntityToken", PlayFabSettings.EntityToken);
+        FutureTask<Object> task = PlayFabHTTP.doPost(context.getURL("/MultiplayerServer/UpdateBuildRegion"), request, "X-EntityToken", entityToken, EmptyResponse.class);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -3703,9 +3702,7 @@ public class PlayFabMultiplayerAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
-
-        PlayFabJsonSuccess<EmptyResponse> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<EmptyResponse>>(){}.getType());
+        PlayFabJsonSuccess<EmptyResponse> resultData = (PlayFabJsonSuccess<EmptyResponse>) httpResult;
         EmptyResponse result = resultData.data;
 
         PlayFabResult<EmptyResponse> pfResult = new PlayFabResult<EmptyResponse>();
@@ -3722,7 +3719,7 @@ public class PlayFabMultiplayerAPI {
     public static FutureTask<PlayFabResult<EmptyResponse>> UpdateBuildRegionsAsync(final UpdateBuildRegionsRequest request) {
         return new FutureTask(new Callable<PlayFabResult<EmptyResponse>>() {
             public PlayFabResult<EmptyResponse> call() throws Exception {
-                return privateUpdateBuildRegionsAsync(request);
+                return privateUpdateBuildRegionsAsync(null, request);
             }
         });
     }
@@ -3736,7 +3733,7 @@ public class PlayFabMultiplayerAPI {
     public static PlayFabResult<EmptyResponse> UpdateBuildRegions(final UpdateBuildRegionsRequest request) {
         FutureTask<PlayFabResult<EmptyResponse>> task = new FutureTask(new Callable<PlayFabResult<EmptyResponse>>() {
             public PlayFabResult<EmptyResponse> call() throws Exception {
-                return privateUpdateBuildRegionsAsync(request);
+                return privateUpdateBuildRegionsAsync(null, request);
             }
         });
         try {
@@ -3751,10 +3748,12 @@ public class PlayFabMultiplayerAPI {
 
     /** Updates a multiplayer server build's regions. */
     @SuppressWarnings("unchecked")
-    private static PlayFabResult<EmptyResponse> privateUpdateBuildRegionsAsync(final UpdateBuildRegionsRequest request) throws Exception {
-        if (PlayFabSettings.EntityToken == null) throw new Exception ("Must call GetEntityToken before you can use the Entity API");
+    static PlayFabResult<EmptyResponse> privateUpdateBuildRegionsAsync(final PlayFabInstanceAPI instance, final UpdateBuildRegionsRequest request) throws Exception {
+        final PlayFabApiContext context = PlayFabInstanceAPI.contextOf(instance);
+        final String entityToken = context.getEntityToken();
+        if (entityToken == null) throw new Exception ("Must call GetEntityToken before you can use the Entity API");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/MultiplayerServer/UpdateBuildRegions"), request, "X-EntityToken", PlayFabSettings.EntityToken);
+        FutureTask<Object> task = PlayFabHTTP.doPost(context.getURL("/MultiplayerServer/UpdateBuildRegions"), request, "X-EntityToken", entityToken, EmptyResponse.class);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -3765,9 +3764,7 @@ public class PlayFabMultiplayerAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
-
-        PlayFabJsonSuccess<EmptyResponse> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<EmptyResponse>>(){}.getType());
+        PlayFabJsonSuccess<EmptyResponse> resultData = (PlayFabJsonSuccess<EmptyResponse>) httpResult;
         EmptyResponse result = resultData.data;
 
         PlayFabResult<EmptyResponse> pfResult = new PlayFabResult<EmptyResponse>();
@@ -3784,7 +3781,7 @@ public class PlayFabMultiplayerAPI {
     public static FutureTask<PlayFabResult<EmptyResponse>> UploadCertificateAsync(final UploadCertificateRequest request) {
         return new FutureTask(new Callable<PlayFabResult<EmptyResponse>>() {
             public PlayFabResult<EmptyResponse> call() throws Exception {
-                return privateUploadCertificateAsync(request);
+                return privateUploadCertificateAsync(null, request);
             }
         });
     }
@@ -3798,7 +3795,7 @@ public class PlayFabMultiplayerAPI {
     public static PlayFabResult<EmptyResponse> UploadCertificate(final UploadCertificateRequest request) {
         FutureTask<PlayFabResult<EmptyResponse>> task = new FutureTask(new Callable<PlayFabResult<EmptyResponse>>() {
             public PlayFabResult<EmptyResponse> call() throws Exception {
-                return privateUploadCertificateAsync(request);
+                return privateUploadCertificateAsync(null, request);
             }
         });
         try {
@@ -3813,10 +3810,12 @@ public class PlayFabMultiplayerAPI {
 
     /** Uploads a multiplayer server game certificate. */
     @SuppressWarnings("unchecked")
-    private static PlayFabResult<EmptyResponse> privateUploadCertificateAsync(final UploadCertificateRequest request) throws Exception {
-        if (PlayFabSettings.EntityToken == null) throw new Exception ("Must call GetEntityToken before you can use the Entity API");
+    static PlayFabResult<EmptyResponse> privateUploadCertificateAsync(final PlayFabInstanceAPI instance, final UploadCertificateRequest request) throws Exception {
+        final PlayFabApiContext context = PlayFabInstanceAPI.contextOf(instance);
+        final String entityToken = context.getEntityToken();
+        if (entityToken == null) throw new Exception ("Must call GetEntityToken before you can use the Entity API");
 
-        FutureTask<Object> task = PlayFabHTTP.doPost(PlayFabSettings.GetURL("/MultiplayerServer/UploadCertificate"), request, "X-EntityToken", PlayFabSettings.EntityToken);
+        FutureTask<Object> task = PlayFabHTTP.doPost(context.getURL("/MultiplayerServer/UploadCertificate"), request, "X-EntityToken", entityToken, EmptyResponse.class);
         task.run();
         Object httpResult = task.get();
         if (httpResult instanceof PlayFabError) {
@@ -3827,9 +3826,7 @@ public class PlayFabMultiplayerAPI {
             result.Error = error;
             return result;
         }
-        String resultRawJson = (String) httpResult;
-
-        PlayFabJsonSuccess<EmptyResponse> resultData = gson.fromJson(resultRawJson, new TypeToken<PlayFabJsonSuccess<EmptyResponse>>(){}.getType());
+        PlayFabJsonSuccess<EmptyResponse> resultData = (PlayFabJsonSuccess<EmptyResponse>) httpResult;
         EmptyResponse result = resultData.data;
 
         PlayFabResult<EmptyResponse> pfResult = new PlayFabResult<EmptyResponse>();
@@ -3837,4 +3834,820 @@ public class PlayFabMultiplayerAPI {
         return pfResult;
     }
 
+    /**
+     * @return Non-blocking versions of every PlayFabMultiplayerAPI call, started on PlayFabSettings.AsyncExecutor
+     */
+    public static Async async() {
+        return async;
+    }
+
+    /**
+     * Non-blocking versions of the PlayFabMultiplayerAPI calls. Each call is already running when its PlayFabFuture is returned.
+     */
+    public static class Async {
+        private Async() {
+        }
+
+        /**
+         * Cancel all active tickets the player is a member of in a given queue.
+         * @param request CancelAllMatchmakingTicketsForPlayerRequest
+         * @return Running future that will complete with CancelAllMatchmakingTicketsForPlayerResult
+         */
+        public PlayFabFuture<PlayFabResult<CancelAllMatchmakingTicketsForPlayerResult>> CancelAllMatchmakingTicketsForPlayer(final CancelAllMatchmakingTicketsForPlayerRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<CancelAllMatchmakingTicketsForPlayerResult>>() {
+                public PlayFabResult<CancelAllMatchmakingTicketsForPlayerResult> call() throws Exception {
+                    return privateCancelAllMatchmakingTicketsForPlayerAsync(null, request);
+                }
+            });
+        }
+
+        /**
+         * Cancel all active backfill tickets the player is a member of in a given queue.
+         * @param request CancelAllServerBackfillTicketsForPlayerRequest
+         * @return Running future that will complete with CancelAllServerBackfillTicketsForPlayerResult
+         */
+        public PlayFabFuture<PlayFabResult<CancelAllServerBackfillTicketsForPlayerResult>> CancelAllServerBackfillTicketsForPlayer(final CancelAllServerBackfillTicketsForPlayerRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<CancelAllServerBackfillTicketsForPlayerResult>>() {
+                public PlayFabResult<CancelAllServerBackfillTicketsForPlayerResult> call() throws Exception {
+                    return privateCancelAllServerBackfillTicketsForPlayerAsync(null, request);
+                }
+            });
+        }
+
+        /**
+         * Cancel a matchmaking ticket.
+         * @param request CancelMatchmakingTicketRequest
+         * @return Running future that will complete with CancelMatchmakingTicketResult
+         */
+        public PlayFabFuture<PlayFabResult<CancelMatchmakingTicketResult>> CancelMatchmakingTicket(final CancelMatchmakingTicketRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<CancelMatchmakingTicketResult>>() {
+                public PlayFabResult<CancelMatchmakingTicketResult> call() throws Exception {
+                    return privateCancelMatchmakingTicketAsync(null, request);
+                }
+            });
+        }
+
+        /**
+         * Cancel a server backfill ticket.
+         * @param request CancelServerBackfillTicketRequest
+         * @return Running future that will complete with CancelServerBackfillTicketResult
+         */
+        public PlayFabFuture<PlayFabResult<CancelServerBackfillTicketResult>> CancelServerBackfillTicket(final CancelServerBackfillTicketRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<CancelServerBackfillTicketResult>>() {
+                public PlayFabResult<CancelServerBackfillTicketResult> call() throws Exception {
+                    return privateCancelServerBackfillTicketAsync(null, request);
+                }
+            });
+        }
+
+        /**
+         * Creates a multiplayer server build alias.
+         * @param request CreateBuildAliasRequest
+         * @return Running future that will complete with BuildAliasDetailsResponse
+         */
+        public PlayFabFuture<PlayFabResult<BuildAliasDetailsResponse>> CreateBuildAlias(final CreateBuildAliasRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<BuildAliasDetailsResponse>>() {
+                public PlayFabResult<BuildAliasDetailsResponse> call() throws Exception {
+                    return privateCreateBuildAliasAsync(null, request);
+                }
+            });
+        }
+
+        /**
+         * Creates a multiplayer server build with a custom container.
+         * @param request CreateBuildWithCustomContainerRequest
+         * @return Running future that will complete with CreateBuildWithCustomContainerResponse
+         */
+        public PlayFabFuture<PlayFabResult<CreateBuildWithCustomContainerResponse>> CreateBuildWithCustomContainer(final CreateBuildWithCustomContainerRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<CreateBuildWithCustomContainerResponse>>() {
+                public PlayFabResult<CreateBuildWithCustomContainerResponse> call() throws Exception {
+                    return privateCreateBuildWithCustomContainerAsync(null, request);
+                }
+            });
+        }
+
+        /**
+         * Creates a multiplayer server build with a managed container.
+         * @param request CreateBuildWithManagedContainerRequest
+         * @return Running future that will complete with CreateBuildWithManagedContainerResponse
+         */
+        public PlayFabFuture<PlayFabResult<CreateBuildWithManagedContainerResponse>> CreateBuildWithManagedContainer(final CreateBuildWithManagedContainerRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<CreateBuildWithManagedContainerResponse>>() {
+                public PlayFabResult<CreateBuildWithManagedContainerResponse> call() throws Exception {
+                    return privateCreateBuildWithManagedContainerAsync(null, request);
+                }
+            });
+        }
+
+        /**
+         * Creates a multiplayer server build with the server running as a process.
+         * @param request CreateBuildWithProcessBasedServerRequest
+         * @return Running future that will complete with CreateBuildWithProcessBasedServerResponse
+         */
+        public PlayFabFuture<PlayFabResult<CreateBuildWithProcessBasedServerResponse>> CreateBuildWithProcessBasedServer(final CreateBuildWithProcessBasedServerRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<CreateBuildWithProcessBasedServerResponse>>() {
+                public PlayFabResult<CreateBuildWithProcessBasedServerResponse> call() throws Exception {
+                    return privateCreateBuildWithProcessBasedServerAsync(null, request);
+                }
+            });
+        }
+
+        /**
+         * Create a matchmaking ticket as a client.
+         * @param request CreateMatchmakingTicketRequest
+         * @return Running future that will complete with CreateMatchmakingTicketResult
+         */
+        public PlayFabFuture<PlayFabResult<CreateMatchmakingTicketResult>> CreateMatchmakingTicket(final CreateMatchmakingTicketRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<CreateMatchmakingTicketResult>>() {
+                public PlayFabResult<CreateMatchmakingTicketResult> call() throws Exception {
+                    return privateCreateMatchmakingTicketAsync(null, request);
+                }
+            });
+        }
+
+        /**
+         * Creates a remote user to log on to a VM for a multiplayer server build.
+         * @param request CreateRemoteUserRequest
+         * @return Running future that will complete with CreateRemoteUserResponse
+         */
+        public PlayFabFuture<PlayFabResult<CreateRemoteUserResponse>> CreateRemoteUser(final CreateRemoteUserRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<CreateRemoteUserResponse>>() {
+                public PlayFabResult<CreateRemoteUserResponse> call() throws Exception {
+                    return privateCreateRemoteUserAsync(null, request);
+                }
+            });
+        }
+
+        /**
+         * Create a backfill matchmaking ticket as a server. A backfill ticket represents an ongoing game. The matchmaking service
+         * automatically starts matching the backfill ticket against other matchmaking tickets. Backfill tickets cannot match with
+         * other backfill tickets.
+         * @param request CreateServerBackfillTicketRequest
+         * @return Running future that will complete with CreateServerBackfillTicketResult
+         */
+        public PlayFabFuture<PlayFabResult<CreateServerBackfillTicketResult>> CreateServerBackfillTicket(final CreateServerBackfillTicketRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<CreateServerBackfillTicketResult>>() {
+                public PlayFabResult<CreateServerBackfillTicketResult> call() throws Exception {
+                    return privateCreateServerBackfillTicketAsync(null, request);
+                }
+            });
+        }
+
+        /**
+         * Create a matchmaking ticket as a server. The matchmaking service automatically starts matching the ticket against other
+         * matchmaking tickets.
+         * @param request CreateServerMatchmakingTicketRequest
+         * @return Running future that will complete with CreateMatchmakingTicketResult
+         */
+        public PlayFabFuture<PlayFabResult<CreateMatchmakingTicketResult>> CreateServerMatchmakingTicket(final CreateServerMatchmakingTicketRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<CreateMatchmakingTicketResult>>() {
+                public PlayFabResult<CreateMatchmakingTicketResult> call() throws Exception {
+                    return privateCreateServerMatchmakingTicketAsync(null, request);
+                }
+            });
+        }
+
+        /**
+         * Creates a request to change a title's multiplayer server quotas.
+         * @param request CreateTitleMultiplayerServersQuotaChangeRequest
+         * @return Running future that will complete with CreateTitleMultiplayerServersQuotaChangeResponse
+         */
+        public PlayFabFuture<PlayFabResult<CreateTitleMultiplayerServersQuotaChangeResponse>> CreateTitleMultiplayerServersQuotaChange(final CreateTitleMultiplayerServersQuotaChangeRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<CreateTitleMultiplayerServersQuotaChangeResponse>>() {
+                public PlayFabResult<CreateTitleMultiplayerServersQuotaChangeResponse> call() throws Exception {
+                    return privateCreateTitleMultiplayerServersQuotaChangeAsync(null, request);
+                }
+            });
+        }
+
+        /**
+         * Deletes a multiplayer server game asset for a title.
+         * @param request DeleteAssetRequest
+         * @return Running future that will complete with EmptyResponse
+         */
+        public PlayFabFuture<PlayFabResult<EmptyResponse>> DeleteAsset(final DeleteAssetRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<EmptyResponse>>() {
+                public PlayFabResult<EmptyResponse> call() throws Exception {
+                    return privateDeleteAssetAsync(null, request);
+                }
+            });
+        }
+
+        /**
+         * Deletes a multiplayer server build.
+         * @param request DeleteBuildRequest
+         * @return Running future that will complete with EmptyResponse
+         */
+        public PlayFabFuture<PlayFabResult<EmptyResponse>> DeleteBuild(final DeleteBuildRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<EmptyResponse>>() {
+                public PlayFabResult<EmptyResponse> call() throws Exception {
+                    return privateDeleteBuildAsync(null, request);
+                }
+            });
+        }
+
+        /**
+         * Deletes a multiplayer server build alias.
+         * @param request DeleteBuildAliasRequest
+         * @return Running future that will complete with EmptyResponse
+         */
+        public PlayFabFuture<PlayFabResult<EmptyResponse>> DeleteBuildAlias(final DeleteBuildAliasRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<EmptyResponse>>() {
+                public PlayFabResult<EmptyResponse> call() throws Exception {
+                    return privateDeleteBuildAliasAsync(null, request);
+                }
+            });
+        }
+
+        /**
+         * Removes a multiplayer server build's region.
+         * @param request DeleteBuildRegionRequest
+         * @return Running future that will complete with EmptyResponse
+         */
+        public PlayFabFuture<PlayFabResult<EmptyResponse>> DeleteBuildRegion(final DeleteBuildRegionRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<EmptyResponse>>() {
+                public PlayFabResult<EmptyResponse> call() throws Exception {
+                    return privateDeleteBuildRegionAsync(null, request);
+                }
+            });
+        }
+
+        /**
+         * Deletes a multiplayer server game certificate.
+         * @param request DeleteCertificateRequest
+         * @return Running future that will complete with EmptyResponse
+         */
+        public PlayFabFuture<PlayFabResult<EmptyResponse>> DeleteCertificate(final DeleteCertificateRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<EmptyResponse>>() {
+                public PlayFabResult<EmptyResponse> call() throws Exception {
+                    return privateDeleteCertificateAsync(null, request);
+                }
+            });
+        }
+
+        /**
+         * Deletes a container image repository.
+         * @param request DeleteContainerImageRequest
+         * @return Running future that will complete with EmptyResponse
+         */
+        public PlayFabFuture<PlayFabResult<EmptyResponse>> DeleteContainerImageRepository(final DeleteContainerImageRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<EmptyResponse>>() {
+                public PlayFabResult<EmptyResponse> call() throws Exception {
+                    return privateDeleteContainerImageRepositoryAsync(null, request);
+                }
+            });
+        }
+
+        /**
+         * Deletes a remote user to log on to a VM for a multiplayer server build.
+         * @param request DeleteRemoteUserRequest
+         * @return Running future that will complete with EmptyResponse
+         */
+        public PlayFabFuture<PlayFabResult<EmptyResponse>> DeleteRemoteUser(final DeleteRemoteUserRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<EmptyResponse>>() {
+                public PlayFabResult<EmptyResponse> call() throws Exception {
+                    return privateDeleteRemoteUserAsync(null, request);
+                }
+            });
+        }
+
+        /**
+         * Enables the multiplayer server feature for a title.
+         * @param request EnableMultiplayerServersForTitleRequest
+         * @return Running future that will complete with EnableMultiplayerServersForTitleResponse
+         */
+        public PlayFabFuture<PlayFabResult<EnableMultiplayerServersForTitleResponse>> EnableMultiplayerServersForTitle(final EnableMultiplayerServersForTitleRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<EnableMultiplayerServersForTitleResponse>>() {
+                public PlayFabResult<EnableMultiplayerServersForTitleResponse> call() throws Exception {
+                    return privateEnableMultiplayerServersForTitleAsync(null, request);
+                }
+            });
+        }
+
+        /**
+         * Gets a URL that can be used to download the specified asset. A sample pre-authenticated url -
+         * https://sampleStorageAccount.blob.core.windows.net/gameassets/gameserver.zip?sv=2015-04-05&amp;ss=b&amp;srt=sco&amp;sp=rw&amp;st=startDate&amp;se=endDate&amp;spr=https&amp;sig=sampleSig&amp;api-version=2017-07-29
+         * @param request GetAssetDownloadUrlRequest
+         * @return Running future that will complete with GetAssetDownloadUrlResponse
+         */
+        public PlayFabFuture<PlayFabResult<GetAssetDownloadUrlResponse>> GetAssetDownloadUrl(final GetAssetDownloadUrlRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<GetAssetDownloadUrlResponse>>() {
+                public PlayFabResult<GetAssetDownloadUrlResponse> call() throws Exception {
+                    return privateGetAssetDownloadUrlAsync(null, request);
+                }
+            });
+        }
+
+        /**
+         * Gets the URL to upload assets to. A sample pre-authenticated url -
+         * https://sampleStorageAccount.blob.core.windows.net/gameassets/gameserver.zip?sv=2015-04-05&amp;ss=b&amp;srt=sco&amp;sp=rw&amp;st=startDate&amp;se=endDate&amp;spr=https&amp;sig=sampleSig&amp;api-version=2017-07-29
+         * @param request GetAssetUploadUrlRequest
+         * @return Running future that will complete with GetAssetUploadUrlResponse
+         */
+        public PlayFabFuture<PlayFabResult<GetAssetUploadUrlResponse>> GetAssetUploadUrl(final GetAssetUploadUrlRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<GetAssetUploadUrlResponse>>() {
+                public PlayFabResult<GetAssetUploadUrlResponse> call() throws Exception {
+                    return privateGetAssetUploadUrlAsync(null, request);
+                }
+            });
+        }
+
+        /**
+         * Gets a multiplayer server build.
+         * @param request GetBuildRequest
+         * @return Running future that will complete with GetBuildResponse
+         */
+        public PlayFabFuture<PlayFabResult<GetBuildResponse>> GetBuild(final GetBuildRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<GetBuildResponse>>() {
+                public PlayFabResult<GetBuildResponse> call() throws Exception {
+                    return privateGetBuildAsync(null, request);
+                }
+            });
+        }
+
+        /**
+         * Gets a multiplayer server build alias.
+         * @param request GetBuildAliasRequest
+         * @return Running future that will complete with BuildAliasDetailsResponse
+         */
+        public PlayFabFuture<PlayFabResult<BuildAliasDetailsResponse>> GetBuildAlias(final GetBuildAliasRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<BuildAliasDetailsResponse>>() {
+                public PlayFabResult<BuildAliasDetailsResponse> call() throws Exception {
+                    return privateGetBuildAliasAsync(null, request);
+                }
+            });
+        }
+
+        /**
+         * Gets the credentials to the container registry.
+         * @param request GetContainerRegistryCredentialsRequest
+         * @return Running future that will complete with GetContainerRegistryCredentialsResponse
+         */
+        public PlayFabFuture<PlayFabResult<GetContainerRegistryCredentialsResponse>> GetContainerRegistryCredentials(final GetContainerRegistryCredentialsRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<GetContainerRegistryCredentialsResponse>>() {
+                public PlayFabResult<GetContainerRegistryCredentialsResponse> call() throws Exception {
+                    return privateGetContainerRegistryCredentialsAsync(null, request);
+                }
+            });
+        }
+
+        /**
+         * Get a match.
+         * @param request GetMatchRequest
+         * @return Running future that will complete with GetMatchResult
+         */
+        public PlayFabFuture<PlayFabResult<GetMatchResult>> GetMatch(final GetMatchRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<GetMatchResult>>() {
+                public PlayFabResult<GetMatchResult> call() throws Exception {
+                    return privateGetMatchAsync(null, request);
+                }
+            });
+        }
+
+        /**
+         * Get a matchmaking ticket by ticket Id.
+         * @param request GetMatchmakingTicketRequest
+         * @return Running future that will complete with GetMatchmakingTicketResult
+         */
+        public PlayFabFuture<PlayFabResult<GetMatchmakingTicketResult>> GetMatchmakingTicket(final GetMatchmakingTicketRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<GetMatchmakingTicketResult>>() {
+                public PlayFabResult<GetMatchmakingTicketResult> call() throws Exception {
+                    return privateGetMatchmakingTicketAsync(null, request);
+                }
+            });
+        }
+
+        /**
+         * Gets multiplayer server session details for a build.
+         * @param request GetMultiplayerServerDetailsRequest
+         * @return Running future that will complete with GetMultiplayerServerDetailsResponse
+         */
+        public PlayFabFuture<PlayFabResult<GetMultiplayerServerDetailsResponse>> GetMultiplayerServerDetails(final GetMultiplayerServerDetailsRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<GetMultiplayerServerDetailsResponse>>() {
+                public PlayFabResult<GetMultiplayerServerDetailsResponse> call() throws Exception {
+                    return privateGetMultiplayerServerDetailsAsync(null, request);
+                }
+            });
+        }
+
+        /**
+         * Gets multiplayer server logs after a server has terminated.
+         * @param request GetMultiplayerServerLogsRequest
+         * @return Running future that will complete with GetMultiplayerServerLogsResponse
+         */
+        public PlayFabFuture<PlayFabResult<GetMultiplayerServerLogsResponse>> GetMultiplayerServerLogs(final GetMultiplayerServerLogsRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<GetMultiplayerServerLogsResponse>>() {
+                public PlayFabResult<GetMultiplayerServerLogsResponse> call() throws Exception {
+                    return privateGetMultiplayerServerLogsAsync(null, request);
+                }
+            });
+        }
+
+        /**
+         * Gets multiplayer server logs after a server has terminated.
+         * @param request GetMultiplayerSessionLogsBySessionIdRequest
+         * @return Running future that will complete with GetMultiplayerServerLogsResponse
+         */
+        public PlayFabFuture<PlayFabResult<GetMultiplayerServerLogsResponse>> GetMultiplayerSessionLogsBySessionId(final GetMultiplayerSessionLogsBySessionIdRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<GetMultiplayerServerLogsResponse>>() {
+                public PlayFabResult<GetMultiplayerServerLogsResponse> call() throws Exception {
+                    return privateGetMultiplayerSessionLogsBySessionIdAsync(null, request);
+                }
+            });
+        }
+
+        /**
+         * Get the statistics for a queue.
+         * @param request GetQueueStatisticsRequest
+         * @return Running future that will complete with GetQueueStatisticsResult
+         */
+        public PlayFabFuture<PlayFabResult<GetQueueStatisticsResult>> GetQueueStatistics(final GetQueueStatisticsRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<GetQueueStatisticsResult>>() {
+                public PlayFabResult<GetQueueStatisticsResult> call() throws Exception {
+                    return privateGetQueueStatisticsAsync(null, request);
+                }
+            });
+        }
+
+        /**
+         * Gets a remote login endpoint to a VM that is hosting a multiplayer server build.
+         * @param request GetRemoteLoginEndpointRequest
+         * @return Running future that will complete with GetRemoteLoginEndpointResponse
+         */
+        public PlayFabFuture<PlayFabResult<GetRemoteLoginEndpointResponse>> GetRemoteLoginEndpoint(final GetRemoteLoginEndpointRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<GetRemoteLoginEndpointResponse>>() {
+                public PlayFabResult<GetRemoteLoginEndpointResponse> call() throws Exception {
+                    return privateGetRemoteLoginEndpointAsync(null, request);
+                }
+            });
+        }
+
+        /**
+         * Get a matchmaking backfill ticket by ticket Id.
+         * @param request GetServerBackfillTicketRequest
+         * @return Running future that will complete with GetServerBackfillTicketResult
+         */
+        public PlayFabFuture<PlayFabResult<GetServerBackfillTicketResult>> GetServerBackfillTicket(final GetServerBackfillTicketRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<GetServerBackfillTicketResult>>() {
+                public PlayFabResult<GetServerBackfillTicketResult> call() throws Exception {
+                    return privateGetServerBackfillTicketAsync(null, request);
+                }
+            });
+        }
+
+        /**
+         * Gets the status of whether a title is enabled for the multiplayer server feature.
+         * @param request GetTitleEnabledForMultiplayerServersStatusRequest
+         * @return Running future that will complete with GetTitleEnabledForMultiplayerServersStatusResponse
+         */
+        public PlayFabFuture<PlayFabResult<GetTitleEnabledForMultiplayerServersStatusResponse>> GetTitleEnabledForMultiplayerServersStatus(final GetTitleEnabledForMultiplayerServersStatusRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<GetTitleEnabledForMultiplayerServersStatusResponse>>() {
+                public PlayFabResult<GetTitleEnabledForMultiplayerServersStatusResponse> call() throws Exception {
+                    return privateGetTitleEnabledForMultiplayerServersStatusAsync(null, request);
+                }
+            });
+        }
+
+        /**
+         * Gets a title's server quota change request.
+         * @param request GetTitleMultiplayerServersQuotaChangeRequest
+         * @return Running future that will complete with GetTitleMultiplayerServersQuotaChangeResponse
+         */
+        public PlayFabFuture<PlayFabResult<GetTitleMultiplayerServersQuotaChangeResponse>> GetTitleMultiplayerServersQuotaChange(final GetTitleMultiplayerServersQuotaChangeRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<GetTitleMultiplayerServersQuotaChangeResponse>>() {
+                public PlayFabResult<GetTitleMultiplayerServersQuotaChangeResponse> call() throws Exception {
+                    return privateGetTitleMultiplayerServersQuotaChangeAsync(null, request);
+                }
+            });
+        }
+
+        /**
+         * Gets the quotas for a title in relation to multiplayer servers.
+         * @param request GetTitleMultiplayerServersQuotasRequest
+         * @return Running future that will complete with GetTitleMultiplayerServersQuotasResponse
+         */
+        public PlayFabFuture<PlayFabResult<GetTitleMultiplayerServersQuotasResponse>> GetTitleMultiplayerServersQuotas(final GetTitleMultiplayerServersQuotasRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<GetTitleMultiplayerServersQuotasResponse>>() {
+                public PlayFabResult<GetTitleMultiplayerServersQuotasResponse> call() throws Exception {
+                    return privateGetTitleMultiplayerServersQuotasAsync(null, request);
+                }
+            });
+        }
+
+        /**
+         * Join a matchmaking ticket.
+         * @param request JoinMatchmakingTicketRequest
+         * @return Running future that will complete with JoinMatchmakingTicketResult
+         */
+        public PlayFabFuture<PlayFabResult<JoinMatchmakingTicketResult>> JoinMatchmakingTicket(final JoinMatchmakingTicketRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<JoinMatchmakingTicketResult>>() {
+                public PlayFabResult<JoinMatchmakingTicketResult> call() throws Exception {
+                    return privateJoinMatchmakingTicketAsync(null, request);
+                }
+            });
+        }
+
+        /**
+         * Lists archived multiplayer server sessions for a build.
+         * @param request ListMultiplayerServersRequest
+         * @return Running future that will complete with ListMultiplayerServersResponse
+         */
+        public PlayFabFuture<PlayFabResult<ListMultiplayerServersResponse>> ListArchivedMultiplayerServers(final ListMultiplayerServersRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<ListMultiplayerServersResponse>>() {
+                public PlayFabResult<ListMultiplayerServersResponse> call() throws Exception {
+                    return privateListArchivedMultiplayerServersAsync(null, request);
+                }
+            });
+        }
+
+        /**
+         * Lists multiplayer server game assets for a title.
+         * @param request ListAssetSummariesRequest
+         * @return Running future that will complete with ListAssetSummariesResponse
+         */
+        public PlayFabFuture<PlayFabResult<ListAssetSummariesResponse>> ListAssetSummaries(final ListAssetSummariesRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<ListAssetSummariesResponse>>() {
+                public PlayFabResult<ListAssetSummariesResponse> call() throws Exception {
+                    return privateListAssetSummariesAsync(null, request);
+                }
+            });
+        }
+
+        /**
+         * Lists details of all build aliases for a title. Accepts tokens for title and if game client access is enabled, allows
+         * game client to request list of builds with player entity token.
+         * @param request ListBuildAliasesRequest
+         * @return Running future that will complete with ListBuildAliasesResponse
+         */
+        public PlayFabFuture<PlayFabResult<ListBuildAliasesResponse>> ListBuildAliases(final ListBuildAliasesRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<ListBuildAliasesResponse>>() {
+                public PlayFabResult<ListBuildAliasesResponse> call() throws Exception {
+                    return privateListBuildAliasesAsync(null, request);
+                }
+            });
+        }
+
+        /**
+         * Lists summarized details of all multiplayer server builds for a title. Accepts tokens for title and if game client
+         * access is enabled, allows game client to request list of builds with player entity token.
+         * @param request ListBuildSummariesRequest
+         * @return Running future that will complete with ListBuildSummariesResponse
+         */
+        public PlayFabFuture<PlayFabResult<ListBuildSummariesResponse>> ListBuildSummariesV2(final ListBuildSummariesRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<ListBuildSummariesResponse>>() {
+                public PlayFabResult<ListBuildSummariesResponse> call() throws Exception {
+                    return privateListBuildSummariesV2Async(null, request);
+                }
+            });
+        }
+
+        /**
+         * Lists multiplayer server game certificates for a title.
+         * @param request ListCertificateSummariesRequest
+         * @return Running future that will complete with ListCertificateSummariesResponse
+         */
+        public PlayFabFuture<PlayFabResult<ListCertificateSummariesResponse>> ListCertificateSummaries(final ListCertificateSummariesRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<ListCertificateSummariesResponse>>() {
+                public PlayFabResult<ListCertificateSummariesResponse> call() throws Exception {
+                    return privateListCertificateSummariesAsync(null, request);
+                }
+            });
+        }
+
+        /**
+         * Lists custom container images for a title.
+         * @param request ListContainerImagesRequest
+         * @return Running future that will complete with ListContainerImagesResponse
+         */
+        public PlayFabFuture<PlayFabResult<ListContainerImagesResponse>> ListContainerImages(final ListContainerImagesRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<ListContainerImagesResponse>>() {
+                public PlayFabResult<ListContainerImagesResponse> call() throws Exception {
+                    return privateListContainerImagesAsync(null, request);
+                }
+            });
+        }
+
+        /**
+         * Lists the tags for a custom container image.
+         * @param request ListContainerImageTagsRequest
+         * @return Running future that will complete with ListContainerImageTagsResponse
+         */
+        public PlayFabFuture<PlayFabResult<ListContainerImageTagsResponse>> ListContainerImageTags(final ListContainerImageTagsRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<ListContainerImageTagsResponse>>() {
+                public PlayFabResult<ListContainerImageTagsResponse> call() throws Exception {
+                    return privateListContainerImageTagsAsync(null, request);
+                }
+            });
+        }
+
+        /**
+         * List all matchmaking ticket Ids the user is a member of.
+         * @param request ListMatchmakingTicketsForPlayerRequest
+         * @return Running future that will complete with ListMatchmakingTicketsForPlayerResult
+         */
+        public PlayFabFuture<PlayFabResult<ListMatchmakingTicketsForPlayerResult>> ListMatchmakingTicketsForPlayer(final ListMatchmakingTicketsForPlayerRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<ListMatchmakingTicketsForPlayerResult>>() {
+                public PlayFabResult<ListMatchmakingTicketsForPlayerResult> call() throws Exception {
+                    return privateListMatchmakingTicketsForPlayerAsync(null, request);
+                }
+            });
+        }
+
+        /**
+         * Lists multiplayer server sessions for a build.
+         * @param request ListMultiplayerServersRequest
+         * @return Running future that will complete with ListMultiplayerServersResponse
+         */
+        public PlayFabFuture<PlayFabResult<ListMultiplayerServersResponse>> ListMultiplayerServers(final ListMultiplayerServersRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<ListMultiplayerServersResponse>>() {
+                public PlayFabResult<ListMultiplayerServersResponse> call() throws Exception {
+                    return privateListMultiplayerServersAsync(null, request);
+                }
+            });
+        }
+
+        /**
+         * Lists quality of service servers for party.
+         * @param request ListPartyQosServersRequest
+         * @return Running future that will complete with ListPartyQosServersResponse
+         */
+        public PlayFabFuture<PlayFabResult<ListPartyQosServersResponse>> ListPartyQosServers(final ListPartyQosServersRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<ListPartyQosServersResponse>>() {
+                public PlayFabResult<ListPartyQosServersResponse> call() throws Exception {
+                    return privateListPartyQosServersAsync(null, request);
+                }
+            });
+        }
+
+        /**
+         * Lists quality of service servers for the title. By default, servers are only returned for regions where a Multiplayer
+         * Servers build has been deployed.
+         * @param request ListQosServersForTitleRequest
+         * @return Running future that will complete with ListQosServersForTitleResponse
+         */
+        public PlayFabFuture<PlayFabResult<ListQosServersForTitleResponse>> ListQosServersForTitle(final ListQosServersForTitleRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<ListQosServersForTitleResponse>>() {
+                public PlayFabResult<ListQosServersForTitleResponse> call() throws Exception {
+                    return privateListQosServersForTitleAsync(null, request);
+                }
+            });
+        }
+
+        /**
+         * List all server backfill ticket Ids the user is a member of.
+         * @param request ListServerBackfillTicketsForPlayerRequest
+         * @return Running future that will complete with ListServerBackfillTicketsForPlayerResult
+         */
+        public PlayFabFuture<PlayFabResult<ListServerBackfillTicketsForPlayerResult>> ListServerBackfillTicketsForPlayer(final ListServerBackfillTicketsForPlayerRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<ListServerBackfillTicketsForPlayerResult>>() {
+                public PlayFabResult<ListServerBackfillTicketsForPlayerResult> call() throws Exception {
+                    return privateListServerBackfillTicketsForPlayerAsync(null, request);
+                }
+            });
+        }
+
+        /**
+         * List all server quota change requests for a title.
+         * @param request ListTitleMultiplayerServersQuotaChangesRequest
+         * @return Running future that will complete with ListTitleMultiplayerServersQuotaChangesResponse
+         */
+        public PlayFabFuture<PlayFabResult<ListTitleMultiplayerServersQuotaChangesResponse>> ListTitleMultiplayerServersQuotaChanges(final ListTitleMultiplayerServersQuotaChangesRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<ListTitleMultiplayerServersQuotaChangesResponse>>() {
+                public PlayFabResult<ListTitleMultiplayerServersQuotaChangesResponse> call() throws Exception {
+                    return privateListTitleMultiplayerServersQuotaChangesAsync(null, request);
+                }
+            });
+        }
+
+        /**
+         * Lists virtual machines for a title.
+         * @param request ListVirtualMachineSummariesRequest
+         * @return Running future that will complete with ListVirtualMachineSummariesResponse
+         */
+        public PlayFabFuture<PlayFabResult<ListVirtualMachineSummariesResponse>> ListVirtualMachineSummaries(final ListVirtualMachineSummariesRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<ListVirtualMachineSummariesResponse>>() {
+                public PlayFabResult<ListVirtualMachineSummariesResponse> call() throws Exception {
+                    return privateListVirtualMachineSummariesAsync(null, request);
+                }
+            });
+        }
+
+        /**
+         * Request a multiplayer server session. Accepts tokens for title and if game client access is enabled, allows game client
+         * to request a server with player entity token.
+         * @param request RequestMultiplayerServerRequest
+         * @return Running future that will complete with RequestMultiplayerServerResponse
+         */
+        public PlayFabFuture<PlayFabResult<RequestMultiplayerServerResponse>> RequestMultiplayerServer(final RequestMultiplayerServerRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<RequestMultiplayerServerResponse>>() {
+                public PlayFabResult<RequestMultiplayerServerResponse> call() throws Exception {
+                    return privateRequestMultiplayerServerAsync(null, request);
+                }
+            });
+        }
+
+        /**
+         * Rolls over the credentials to the container registry.
+         * @param request RolloverContainerRegistryCredentialsRequest
+         * @return Running future that will complete with RolloverContainerRegistryCredentialsResponse
+         */
+        public PlayFabFuture<PlayFabResult<RolloverContainerRegistryCredentialsResponse>> RolloverContainerRegistryCredentials(final RolloverContainerRegistryCredentialsRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<RolloverContainerRegistryCredentialsResponse>>() {
+                public PlayFabResult<RolloverContainerRegistryCredentialsResponse> call() throws Exception {
+                    return privateRolloverContainerRegistryCredentialsAsync(null, request);
+                }
+            });
+        }
+
+        /**
+         * Shuts down a multiplayer server session.
+         * @param request ShutdownMultiplayerServerRequest
+         * @return Running future that will complete with EmptyResponse
+         */
+        public PlayFabFuture<PlayFabResult<EmptyResponse>> ShutdownMultiplayerServer(final ShutdownMultiplayerServerRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<EmptyResponse>>() {
+                public PlayFabResult<EmptyResponse> call() throws Exception {
+                    return privateShutdownMultiplayerServerAsync(null, request);
+                }
+            });
+        }
+
+        /**
+         * Untags a container image.
+         * @param request UntagContainerImageRequest
+         * @return Running future that will complete with EmptyResponse
+         */
+        public PlayFabFuture<PlayFabResult<EmptyResponse>> UntagContainerImage(final UntagContainerImageRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<EmptyResponse>>() {
+                public PlayFabResult<EmptyResponse> call() throws Exception {
+                    return privateUntagContainerImageAsync(null, request);
+                }
+            });
+        }
+
+        /**
+         * Creates a multiplayer server build alias.
+         * @param request UpdateBuildAliasRequest
+         * @return Running future that will complete with BuildAliasDetailsResponse
+         */
+        public PlayFabFuture<PlayFabResult<BuildAliasDetailsResponse>> UpdateBuildAlias(final UpdateBuildAliasRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<BuildAliasDetailsResponse>>() {
+                public PlayFabResult<BuildAliasDetailsResponse> call() throws Exception {
+                    return privateUpdateBuildAliasAsync(null, request);
+                }
+            });
+        }
+
+        /**
+         * Updates a multiplayer server build's name.
+         * @param request UpdateBuildNameRequest
+         * @return Running future that will complete with EmptyResponse
+         */
+        public PlayFabFuture<PlayFabResult<EmptyResponse>> UpdateBuildName(final UpdateBuildNameRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<EmptyResponse>>() {
+                public PlayFabResult<EmptyResponse> call() throws Exception {
+                    return privateUpdateBuildNameAsync(null, request);
+                }
+            });
+        }
+
+        /**
+         * Updates a multiplayer server build's region. If the region is not yet created, it will be created
+         * @param request UpdateBuildRegionRequest
+         * @return Running future that will complete with EmptyResponse
+         */
+        public PlayFabFuture<PlayFabResult<EmptyResponse>> UpdateBuildRegion(final UpdateBuildRegionRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<EmptyResponse>>() {
+                public PlayFabResult<EmptyResponse> call() throws Exception {
+                    return privateUpdateBuildRegionAsync(null, request);
+                }
+            });
+        }
+
+        /**
+         * Updates a multiplayer server build's regions.
+         * @param request UpdateBuildRegionsRequest
+         * @return Running future that will complete with EmptyResponse
+         */
+        public PlayFabFuture<PlayFabResult<EmptyResponse>> UpdateBuildRegions(final UpdateBuildRegionsRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<EmptyResponse>>() {
+                public PlayFabResult<EmptyResponse> call() throws Exception {
+                    return privateUpdateBuildRegionsAsync(null, request);
+                }
+            });
+        }
+
+        /**
+         * Uploads a multiplayer server game certificate.
+         * @param request UploadCertificateRequest
+         * @return Running future that will complete with EmptyResponse
+         */
+        public PlayFabFuture<PlayFabResult<EmptyResponse>> UploadCertificate(final UploadCertificateRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<EmptyResponse>>() {
+                public PlayFabResult<EmptyResponse> call() throws Exception {
+                    return privateUploadCertificateAsync(null, request);
+                }
+            });
+        }
+    }
 }
@@ -0,0 +1,1761 @@
+package com.playfab;
+
+import com.playfab.internal.*;
+import com.playfab.PlayFabMultiplayerModels.*;
+import com.playfab.PlayFabErrors.*;
+import com.playfab.PlayFabSettings;
+import java.util.concurrent.*;
+import java.util.*;
+
+    /**
+     * The calls of PlayFabMultiplayerAPI, made with a PlayFabApiContext of this object's own instead of PlayFabSettings. Login
+     * and GetEntityToken calls keep the credentials they return in that context
+     */
+public class PlayFabMultiplayerInstanceAPI extends PlayFabInstanceAPI {
+    private final Async async = new Async();
+
+    public PlayFabMultiplayerInstanceAPI(PlayFabApiContext context) {
+        super(context);
+    }
+
+    /**
+     * Cancel all active tickets the player is a member of in a given queue.
+     * @param request CancelAllMatchmakingTicketsForPlayerRequest
+     * @return CancelAllMatchmakingTicketsForPlayerResult
+     */
+    public PlayFabResult<CancelAllMatchmakingTicketsForPlayerResult> CancelAllMatchmakingTicketsForPlayer(final CancelAllMatchmakingTicketsForPlayerRequest request) {
+        try {
+            return PlayFabMultiplayerAPI.privateCancelAllMatchmakingTicketsForPlayerAsync(this, request);
+        } catch(Exception e) {
+            PlayFabResult<CancelAllMatchmakingTicketsForPlayerResult> exceptionResult = new PlayFabResult<CancelAllMatchmakingTicketsForPlayerResult>();
+            exceptionResult.Error = PlayFabHTTP.GeneratePfError(-1, PlayFabErrorCode.Unknown, e.getMessage(), null, null);
+            return exceptionResult;
+        }
+    }
+
+    /**
+     * Cancel all active backfill tickets the player is a member of in a given queue.
+     * @param request CancelAllServerBackfillTicketsForPlayerRequest
+     * @return CancelAllServerBackfillTicketsForPlayerResult
+     */
+    public PlayFabResult<CancelAllServerBackfillTicketsForPlayerResult> CancelAllServerBackfillTicketsForPlayer(final CancelAllServerBackfillTicketsForPlayerRequest request) {
+        try {
+            return PlayFabMultiplayerAPI.privateCancelAllServerBackfillTicketsForPlayerAsync(this, request);
+        } catch(Exception e) {
+            PlayFabResult<CancelAllServerBackfillTicketsForPlayerResult> exceptionResult = new PlayFabResult<CancelAllServerBackfillTicketsForPlayerResult>();
+            exceptionResult.Error = PlayFabHTTP.GeneratePfError(-1, PlayFabErrorCode.Unknown, e.getMessage(), null, null);
+            return exceptionResult;
+        }
+    }
+
+    /**
+     * Cancel a matchmaking ticket.
+     * @param request CancelMatchmakingTicketRequest
+     * @return CancelMatchmakingTicketResult
+     */
+    public PlayFabResult<CancelMatchmakingTicketResult> CancelMatchmakingTicket(final CancelMatchmakingTicketRequest request) {
+        try {
+            return PlayFabMultiplayerAPI.privateCancelMatchmakingTicketAsync(this, request);
+        } catch(Exception e) {
+            PlayFabResult<CancelMatchmakingTicketResult> exceptionResult = new PlayFabResult<CancelMatchmakingTicketResult>();
+            exceptionResult.Error = PlayFabHTTP.GeneratePfError(-1, PlayFabErrorCode.Unknown, e.getMessage(), null, null);
+            return exceptionResult;
+        }
+    }
+
+    /**
+     * Cancel a server backfill ticket.
+     * @param request CancelServerBackfillTicketRequest
+     * @return CancelServerBackfillTicketResult
+     */
+    public PlayFabResult<CancelServerBackfillTicketResult> CancelServerBackfillTicket(final CancelServerBackfillTicketRequest request) {
+        try {
+            return PlayFabMultiplayerAPI.privateCancelServerBackfillTicketAsync(this, request);
+        } catch(Exception e) {
+            PlayFabResult<CancelServerBackfillTicketResult> exceptionResult = new PlayFabResult<CancelServerBackfillTicketResult>();
+            exceptionResult.Error = PlayFabHTTP.GeneratePfError(-1, PlayFabErrorCode.Unknown, e.getMessage(), null, null);
+            return exceptionResult;
+        }
+    }
+
+    /**
+     * Creates a multiplayer server build alias.
+     * @param request CreateBuildAliasRequest
+     * @return BuildAliasDetailsResponse
+     */
+    public PlayFabResult<BuildAliasDetailsResponse> CreateBuildAlias(final CreateBuildAliasRequest request) {
+        try {
+            return PlayFabMultiplayerAPI.privateCreateBuildAliasAsync(this, request);
+        } catch(Exception e) {
+            PlayFabResult<BuildAliasDetailsResponse> exceptionResult = new PlayFabResult<BuildAliasDetailsResponse>();
+            exceptionResult.Error = PlayFabHTTP.GeneratePfError(-1, PlayFabErrorCode.Unknown, e.getMessage(), null, null);
+            return exceptionResult;
+        }
+    }
+
+    /**
+     * Creates a multiplayer server build with a custom container.
+     * @param request CreateBuildWithCustomContainerRequest
+     * @return CreateBuildWithCustomContainerResponse
+     */
+    public PlayFabResult<CreateBuildWithCustomContainerResponse> CreateBuildWithCustomContainer(final CreateBuildWithCustomContainerRequest request) {
+        try {
+            return PlayFabMultiplayerAPI.privateCreateBuildWithCustomContainerAsync(this, request);
+        } catch(Exception e) {
+            PlayFabResult<CreateBuildWithCustomContainerResponse> exceptionResult = new PlayFabResult<CreateBuildWithCustomContainerResponse>();
+            exceptionResult.Error = PlayFabHTTP.GeneratePfError(-1, PlayFabErrorCode.Unknown, e.getMessage(), null, null);
+            return exceptionResult;
+        }
+    }
+
+    /**
+     * Creates a multiplayer server build with a managed container.
+     * @param request CreateBuildWithManagedContainerRequest
+     * @return CreateBuildWithManagedContainerResponse
+     */
+    public PlayFabResult<CreateBuildWithManagedContainerResponse> CreateBuildWithManagedContainer(final CreateBuildWithManagedContainerRequest request) {
+        try {
+            return PlayFabMultiplayerAPI.privateCreateBuildWithManagedContainerAsync(this, request);
+        } catch(Exception e) {
+            PlayFabResult<CreateBuildWithManagedContainerResponse> exceptionResult = new PlayFabResult<CreateBuildWithManagedContainerResponse>();
+            exceptionResult.Error = PlayFabHTTP.GeneratePfError(-1, PlayFabErrorCode.Unknown, e.getMessage(), null, null);
+            return exceptionResult;
+        }
+    }
+
+    /**
+     * Creates a multiplayer server build with the server running as a process.
+     * @param request CreateBuildWithProcessBasedServerRequest
+     * @return CreateBuildWithProcessBasedServerResponse
+     */
+    public PlayFabResult<CreateBuildWithProcessBasedServerResponse> CreateBuildWithProcessBasedServer(final CreateBuildWithProcessBasedServerRequest request) {
+        try {
+            return PlayFabMultiplayerAPI.privateCreateBuildWithProcessBasedServerAsync(this, request);
+        } catch(Exception e) {
+            PlayFabResult<CreateBuildWithProcessBasedServerResponse> exceptionResult = new PlayFabResult<CreateBuildWithProcessBasedServerResponse>();
+            exceptionResult.Error = PlayFabHTTP.GeneratePfError(-1, PlayFabErrorCode.Unknown, e.getMessage(), null, null);
+            return exceptionResult;
+        }
+    }
+
+    /**
+     * Create a matchmaking ticket as a client.
+     * @param request CreateMatchmakingTicketRequest
+     * @return CreateMatchmakingTicketResult
+     */
+    public PlayFabResult<CreateMatchmakingTicketResult> CreateMatchmakingTicket(final CreateMatchmakingTicketRequest request) {
+        try {
+            return PlayFabMultiplayerAPI.privateCreateMatchmakingTicketAsync(this, request);
+        } catch(Exception e) {
+            PlayFabResult<CreateMatchmakingTicketResult> exceptionResult = new PlayFabResult<CreateMatchmakingTicketResult>();
+            exceptionResult.Error = PlayFabHTTP.GeneratePfError(-1, PlayFabErrorCode.Unknown, e.getMessage(), null, null);
+            return exceptionResult;
+        }
+    }
+
+    /**
+     * Creates a remote user to log on to a VM for a multiplayer server build.
+     * @param request CreateRemoteUserRequest
+     * @return CreateRemoteUserResponse
+     */
+    public PlayFabResult<CreateRemoteUserResponse> CreateRemoteUser(final CreateRemoteUserRequest request) {
+        try {
+            return PlayFabMultiplayerAPI.privateCreateRemoteUserAsync(this, request);
+        } catch(Exception e) {
+            PlayFabResult<CreateRemoteUserResponse> exceptionResult = new PlayFabResult<CreateRemoteUserResponse>();
+            exceptionResult.Error = PlayFabHTTP.GeneratePfError(-1, PlayFabErrorCode.Unknown, e.getMessage(), null, null);
+            return exceptionResult;
+        }
+    }
+
+    /**
+     * Create a backfill matchmaking ticket as a server. A backfill ticket represents an ongoing game. The matchmaking service
+     * automatically starts matching the backfill ticket against other matchmaking tickets. Backfill tickets cannot match with
+     * other backfill tickets.
+     * @param request CreateServerBackfillTicketRequest
+     * @return CreateServerBackfillTicketResult
+     */
+    public PlayFabResult<CreateServerBackfillTicketResult> CreateServerBackfillTicket(final CreateServerBackfillTicketRequest request) {
+        try {
+            return PlayFabMultiplayerAPI.privateCreateServerBackfillTicketAsync(this, request);
+        } catch(Exception e) {
+            PlayFabResult<CreateServerBackfillTicketResult> exceptionResult = new PlayFabResult<CreateServerBackfillTicketResult>();
+            exceptionResult.Error = PlayFabHTTP.GeneratePfError(-1, PlayFabErrorCode.Unknown, e.getMessage(), null, null);
+            return exceptionResult;
+        }
+    }
+
+    /**
+     * Create a matchmaking ticket as a server. The matchmaking service automatically starts matching the ticket against other
+     * matchmaking tickets.
+     * @param request CreateServerMatchmakingTicketRequest
+     * @return CreateMatchmakingTicketResult
+     */
+    public PlayFabResult<CreateMatchmakingTicketResult> CreateServerMatchmakingTicket(final CreateServerMatchmakingTicketRequest request) {
+        try {
+            return PlayFabMultiplayerAPI.privateCreateServerMatchmakingTicketAsync(this, request);
+        } catch(Exception e) {
+            PlayFabResult<CreateMatchmakingTicketResult> exceptionResult = new PlayFabResult<CreateMatchmakingTicketResult>();
+            exceptionResult.Error = PlayFabHTTP.GeneratePfError(-1, PlayFabErrorCode.Unknown, e.getMessage(), null, null);
+            return exceptionResult;
+        }
+    }
+
+    /**
+     * Creates a request to change a title's multiplayer server quotas.
+     * @param request CreateTitleMultiplayerServersQuotaChangeRequest
+     * @return CreateTitleMultiplayerServersQuotaChangeResponse
+     */
+    public PlayFabResult<CreateTitleMultiplayerServersQuotaChangeResponse> CreateTitleMultiplayerServersQuotaChange(final CreateTitleMultiplayerServersQuotaChangeRequest request) {
+        try {
+            return PlayFabMultiplayerAPI.privateCreateTitleMultiplayerServersQuotaChangeAsync(this, request);
+        } catch(Exception e) {
+            PlayFabResult<CreateTitleMultiplayerServersQuotaChangeResponse> exceptionResult = new PlayFabResult<CreateTitleMultiplayerServersQuotaChangeResponse>();
+            exceptionResult.Error = PlayFabHTTP.GeneratePfError(-1, PlayFabErrorCode.Unknown, e.getMessage(), null, null);
+            return exceptionResult;
+        }
+    }
+
+    /**
+     * Deletes a multiplayer server game asset for a title.
+     * @param request DeleteAssetRequest
+     * @return EmptyResponse
+     */
+    public PlayFabResult<EmptyResponse> DeleteAsset(final DeleteAssetRequest request) {
+        try {
+            return PlayFabMultiplayerAPI.privateDeleteAssetAsync(this, request);
+        } catch(Exception e) {
+            PlayFabResult<EmptyResponse> exceptionResult = new PlayFabResult<EmptyResponse>();
+            exceptionResult.Error = PlayFabHTTP.GeneratePfError(-1, PlayFabErrorCode.Unknown, e.getMessage(), null, null);
+            return exceptionResult;
+        }
+    }
+
+    /**
+     * Deletes a multiplayer server build.
+     * @param request DeleteBuildRequest
+     * @return EmptyResponse
+     */
+    public PlayFabResult<EmptyResponse> DeleteBuild(final DeleteBuildRequest request) {
+        try {
+            return PlayFabMultiplayerAPI.privateDeleteBuildAsync(this, request);
+        } catch(Exception e) {
+            PlayFabResult<EmptyResponse> exceptionResult = new PlayFabResult<EmptyResponse>();
+            exceptionResult.Error = PlayFabHTTP.GeneratePfError(-1, PlayFabErrorCode.Unknown, e.getMessage(), null, null);
+            return exceptionResult;
+        }
+    }
+
+    /**
+     * Deletes a multiplayer server build alias.
+     * @param request DeleteBuildAliasRequest
+     * @return EmptyResponse
+     */
+    public PlayFabResult<EmptyResponse> DeleteBuildAlias(final DeleteBuildAliasRequest request) {
+        try {
+            return PlayFabMultiplayerAPI.privateDeleteBuildAliasAsync(this, request);
+        } catch(Exception e) {
+            PlayFabResult<EmptyResponse> exceptionResult = new PlayFabResult<EmptyResponse>();
+            exceptionResult.Error = PlayFabHTTP.GeneratePfError(-1, PlayFabErrorCode.Unknown, e.getMessage(), null, null);
+            return exceptionResult;
+        }
+    }
+
+    /**
+     * Removes a multiplayer server build's region.
+     * @param request DeleteBuildRegionRequest
+     * @return EmptyResponse
+     */
+    public PlayFabResult<EmptyResponse> DeleteBuildRegion(final DeleteBuildRegionRequest request) {
+        try {
+            return PlayFabMultiplayerAPI.privateDeleteBuildRegionAsync(this, request);
+        } catch(Exception e) {
+            PlayFabResult<EmptyResponse> exceptionResult = new PlayFabResult<EmptyResponse>();
+            exceptionResult.Error = PlayFabHTTP.GeneratePfError(-1, PlayFabErrorCode.Unknown, e.getMessage(), null, null);
+            return exceptionResult;
+        }
+    }
+
+    /**
+     * Deletes a multiplayer server game certificate.
+     * @param request DeleteCertificateRequest
+     * @return EmptyResponse
+     */
+    public PlayFabResult<EmptyResponse> DeleteCertificate(final DeleteCertificateRequest request) {
+        try {
+            return PlayFabMultiplayerAPI.privateDeleteCertificateAsync(this, request);
+        } catch(Exception e) {
+            PlayFabResult<EmptyResponse> exceptionResult = new PlayFabResult<EmptyResponse>();
+            exceptionResult.Error = PlayFabHTTP.GeneratePfError(-1, PlayFabErrorCode.Unknown, e.getMessage(), null, null);
+            return exceptionResult;
+        }
+    }
+
+    /**
+     * Deletes a container image repository.
+     * @param request DeleteContainerImageRequest
+     * @return EmptyResponse
+     */
+    public PlayFabResult<EmptyResponse> DeleteContainerImageRepository(final DeleteContainerImageRequest request) {
+        try {
+            return PlayFabMultiplayerAPI.privateDeleteContainerImageRepositoryAsync(this, request);
+        } catch(Exception e) {
+            PlayFabResult<EmptyResponse> exceptionResult = new PlayFabResult<EmptyResponse>();
+            exceptionResult.Error = PlayFabHTTP.GeneratePfError(-1, PlayFabErrorCode.Unknown, e.getMessage(), null, null);
+            return exceptionResult;
+        }
+    }
+
+    /**
+     * Deletes a remote user to log on to a VM for a multiplayer server build.
+     * @param request DeleteRemoteUserRequest
+     * @return EmptyResponse
+     */
+    public PlayFabResult<EmptyResponse> DeleteRemoteUser(final DeleteRemoteUserRequest request) {
+        try {
+            return PlayFabMultiplayerAPI.privateDeleteRemoteUserAsync(this, request);
+        } catch(Exception e) {
+            PlayFabResult<EmptyResponse> exceptionResult = new PlayFabResult<EmptyResponse>();
+            exceptionResult.Error = PlayFabHTTP.GeneratePfError(-1, PlayFabErrorCode.Unknown, e.getMessage(), null, null);
+            return exceptionResult;
+        }
+    }
+
+    /**
+     * Enables the multiplayer server feature for a title.
+     * @param request EnableMultiplayerServersForTitleRequest
+     * @return EnableMultiplayerServersForTitleResponse
+     */
+    public PlayFabResult<EnableMultiplayerServersForTitleResponse> EnableMultiplayerServersForTitle(final EnableMultiplayerServersForTitleRequest request) {
+        try {
+            return PlayFabMultiplayerAPI.privateEnableMultiplayerServersForTitleAsync(this, request);
+        } catch(Exception e) {
+            PlayFabResult<EnableMultiplayerServersForTitleResponse> exceptionResult = new PlayFabResult<EnableMultiplayerServersForTitleResponse>();
+            exceptionResult.Error = PlayFabHTTP.GeneratePfError(-1, PlayFabErrorCode.Unknown, e.getMessage(), null, null);
+            return exceptionResult;
+        }
+    }
+
+    /**
+     * Gets a URL that can be used to download the specified asset. A sample pre-authenticated url -
+     * https://sampleStorageAccount.blob.core.windows.net/gameassets/gameserver.zip?sv=2015-04-05&amp;ss=b&amp;srt=sco&amp;sp=rw&amp;st=startDate&amp;se=endDate&amp;spr=https&amp;sig=sampleSig&amp;api-version=2017-07-29
+     * @param request GetAssetDownloadUrlRequest
+     * @return GetAssetDownloadUrlResponse
+     */
+    public PlayFabResult<GetAssetDownloadUrlResponse> GetAssetDownloadUrl(final GetAssetDownloadUrlRequest request) {
+        try {
+            return PlayFabMultiplayerAPI.privateGetAssetDownloadUrlAsync(this, request);
+        } catch(Exception e) {
+            PlayFabResult<GetAssetDownloadUrlResponse> exceptionResult = new PlayFabResult<GetAssetDownloadUrlResponse>();
+            exceptionResult.Error = PlayFabHTTP.GeneratePfError(-1, PlayFabErrorCode.Unknown, e.getMessage(), null, null);
+            return exceptionResult;
+        }
+    }
+
+    /**
+     * Gets the URL to upload assets to. A sample pre-authenticated url -
+     * https://sampleStorageAccount.blob.core.windows.net/gameassets/gameserver.zip?sv=2015-04-05&amp;ss=b&amp;srt=sco&amp;sp=rw&amp;st=startDate&amp;se=endDate&amp;spr=https&amp;sig=sampleSig&amp;api-version=2017-07-29
+     * @param request GetAssetUploadUrlRequest
+     * @return GetAssetUploadUrlResponse
+     */
+    public PlayFabResult<GetAssetUploadUrlResponse> GetAssetUploadUrl(final GetAssetUploadUrlRequest request) {
+        try {
+            return PlayFabMultiplayerAPI.privateGetAssetUploadUrlAsync(this, request);
+        } catch(Exception e) {
+            PlayFabResult<GetAssetUploadUrlResponse> exceptionResult = new PlayFabResult<GetAssetUploadUrlResponse>();
+            exceptionResult.Error = PlayFabHTTP.GeneratePfError(-1, PlayFabErrorCode.Unknown, e.getMessage(), null, null);
+            return exceptionResult;
+        }
+    }
+
+    /**
+     * Gets a multiplayer server build.
+     * @param request GetBuildRequest
+     * @return GetBuildResponse
+     */
+    public PlayFabResult<GetBuildResponse> GetBuild(final GetBuildRequest request) {
+        try {
+            return PlayFabMultiplayerAPI.privateGetBuildAsync(this, request);
+        } catch(Exception e) {
+            PlayFabResult<GetBuildResponse> exceptionResult = new PlayFabResult<GetBuildResponse>();
+            exceptionResult.Error = PlayFabHTTP.GeneratePfError(-1, PlayFabErrorCode.Unknown, e.getMessage(), null, null);
+            return exceptionResult;
+        }
+    }
+
+    /**
+     * Gets a multiplayer server build alias.
+     * @param request GetBuildAliasRequest
+     * @return BuildAliasDetailsResponse
+     */
+    public PlayFabResult<BuildAliasDetailsResponse> GetBuildAlias(final GetBuildAliasRequest request) {
+        try {
+            return PlayFabMultiplayerAPI.privateGetBuildAliasAsync(this, request);
+        } catch(Exception e) {
+            PlayFabResult<BuildAliasDetailsResponse> exceptionResult = new PlayFabResult<BuildAliasDetailsResponse>();
+            exceptionResult.Error = PlayFabHTTP.GeneratePfError(-1, PlayFabErrorCode.Unknown, e.getMessage(), null, null);
+            return exceptionResult;
+        }
+    }
+
+    /**
+     * Gets the credentials to the container registry.
+     * @param request GetContainerRegistryCredentialsRequest
+     * @return GetContainerRegistryCredentialsResponse
+     */
+    public PlayFabResult<GetContainerRegistryCredentialsResponse> GetContainerRegistryCredentials(final GetContainerRegistryCredentialsRequest request) {
+        try {
+            return PlayFabMultiplayerAPI.privateGetContainerRegistryCredentialsAsync(this, request);
+        } catch(Exception e) {
+            PlayFabResult<GetContainerRegistryCredentialsResponse> exceptionResult = new PlayFabResult<GetContainerRegistryCredentialsResponse>();
+            exceptionResult.Error = PlayFabHTTP.GeneratePfError(-1, PlayFabErrorCode.Unknown, e.getMessage(), null, null);
+            return exceptionResult;
+        }
+    }
+
+    /**
+     * Get a match.
+     * @param request GetMatchRequest
+     * @return GetMatchResult
+     */
+    public PlayFabResult<GetMatchResult> GetMatch(final GetMatchRequest request) {
+        try {
+            return PlayFabMultiplayerAPI.privateGetMatchAsync(this, request);
+        } catch(Exception e) {
+            PlayFabResult<GetMatchResult> exceptionResult = new PlayFabResult<GetMatchResult>();
+            exceptionResult.Error = PlayFabHTTP.GeneratePfError(-1, PlayFabErrorCode.Unknown, e.getMessage(), null, null);
+            return exceptionResult;
+        }
+    }
+
+    /**
+     * Get a matchmaking ticket by ticket Id.
+     * @param request GetMatchmakingTicketRequest
+     * @return GetMatchmakingTicketResult
+     */
+    public PlayFabResult<GetMatchmakingTicketResult> GetMatchmakingTicket(final GetMatchmakingTicketRequest request) {
+        try {
+            return PlayFabMultiplayerAPI.privateGetMatchmakingTicketAsync(this, request);
+        } catch(Exception e) {
+            PlayFabResult<GetMatchmakingTicketResult> exceptionResult = new PlayFabResult<GetMatchmakingTicketResult>();
+            exceptionResult.Error = PlayFabHTTP.GeneratePfError(-1, PlayFabErrorCode.Unknown, e.getMessage(), null, null);
+            return exceptionResult;
+        }
+    }
+
+    /**
+     * Gets multiplayer server session details for a build.
+     * @param request GetMultiplayerServerDetailsRequest
+     * @return GetMultiplayerServerDetailsResponse
+     */
+    public PlayFabResult<GetMultiplayerServerDetailsResponse> GetMultiplayerServerDetails(final GetMultiplayerServerDetailsRequest request) {
+        try {
+            return PlayFabMultiplayerAPI.privateGetMultiplayerServerDetailsAsync(this, request);
+        } catch(Exception e) {
+            PlayFabResult<GetMultiplayerServerDetailsResponse> exceptionResult = new PlayFabResult<GetMultiplayerServerDetailsResponse>();
+            exceptionResult.Error = PlayFabHTTP.GeneratePfError(-1, PlayFabErrorCode.Unknown, e.getMessage(), null, null);
+            return exceptionResult;
+        }
+    }
+
+    /**
+     * Gets multiplayer server logs after a server has terminated.
+     * @param request GetMultiplayerServerLogsRequest
+     * @return GetMultiplayerServerLogsResponse
+     */
+    public PlayFabResult<GetMultiplayerServerLogsResponse> GetMultiplayerServerLogs(final GetMultiplayerServerLogsRequest request) {
+        try {
+            return PlayFabMultiplayerAPI.privateGetMultiplayerServerLogsAsync(this, request);
+        } catch(Exception e) {
+            PlayFabResult<GetMultiplayerServerLogsResponse> exceptionResult = new PlayFabResult<GetMultiplayerServerLogsResponse>();
+            exceptionResult.Error = PlayFabHTTP.GeneratePfError(-1, PlayFabErrorCode.Unknown, e.getMessage(), null, null);
+            return exceptionResult;
+        }
+    }
+
+    /**
+     * Gets multiplayer server logs after a server has terminated.
+     * @param request GetMultiplayerSessionLogsBySessionIdRequest
+     * @return GetMultiplayerServerLogsResponse
+     */
+    public PlayFabResult<GetMultiplayerServerLogsResponse> GetMultiplayerSessionLogsBySessionId(final GetMultiplayerSessionLogsBySessionIdRequest request) {
+        try {
+            return PlayFabMultiplayerAPI.privateGetMultiplayerSessionLogsBySessionIdAsync(this, request);
+        } catch(Exception e) {
+            PlayFabResult<GetMultiplayerServerLogsResponse> exceptionResult = new PlayFabResult<GetMultiplayerServerLogsResponse>();
+            exceptionResult.Error = PlayFabHTTP.GeneratePfError(-1, PlayFabErrorCode.Unknown, e.getMessage(), null, null);
+            return exceptionResult;
+        }
+    }
+
+    /**
+     * Get the statistics for a queue.
+     * @param request GetQueueStatisticsRequest
+     * @return GetQueueStatisticsResult
+     */
+    public PlayFabResult<GetQueueStatisticsResult> GetQueueStatistics(final GetQueueStatisticsRequest request) {
+        try {
+            return PlayFabMultiplayerAPI.privateGetQueueStatisticsAsync(this, request);
+        } catch(Exception e) {
+            PlayFabResult<GetQueueStatisticsResult> exceptionResult = new PlayFabResult<GetQueueStatisticsResult>();
+            exceptionResult.Error = PlayFabHTTP.GeneratePfError(-1, PlayFabErrorCode.Unknown, e.getMessage(), null, null);
+            return exceptionResult;
+        }
+    }
+
+    /**
+     * Gets a remote login endpoint to a VM that is hosting a multiplayer server build.
+     * @param request GetRemoteLoginEndpointRequest
+     * @return GetRemoteLoginEndpointResponse
+     */
+    public PlayFabResult<GetRemoteLoginEndpointResponse> GetRemoteLoginEndpoint(final GetRemoteLoginEndpointRequest request) {
+        try {
+            return PlayFabMultiplayerAPI.privateGetRemoteLoginEndpointAsync(this, request);
+        } catch(Exception e) {
+            PlayFabResult<GetRemoteLoginEndpointResponse> exceptionResult = new PlayFabResult<GetRemoteLoginEndpointResponse>();
+            exceptionResult.Error = PlayFabHTTP.GeneratePfError(-1, PlayFabErrorCode.Unknown, e.getMessage(), null, null);
+            return exceptionResult;
+        }
+    }
+
+    /**
+     * Get a matchmaking backfill ticket by ticket Id.
+     * @param request GetServerBackfillTicketRequest
+     * @return GetServerBackfillTicketResult
+     */
+    public PlayFabResult<GetServerBackfillTicketResult> GetServerBackfillTicket(final GetServerBackfillTicketRequest request) {
+        try {
+            return PlayFabMultiplayerAPI.privateGetServerBackfillTicketAsync(this, request);
+        } catch(Exception e) {
+            PlayFabResult<GetServerBackfillTicketResult> exceptionResult = new PlayFabResult<GetServerBackfillTicketResult>();
+            exceptionResult.Error = PlayFabHTTP.GeneratePfError(-1, PlayFabErrorCode.Unknown, e.getMessage(), null, null);
+            return exceptionResult;
+        }
+    }
+
+    /**
+     * Gets the status of whether a title is enabled for the multiplayer server feature.
+     * @param request GetTitleEnabledForMultiplayerServersStatusRequest
+     * @return GetTitleEnabledForMultiplayerServersStatusResponse
+     */
+    public PlayFabResult<GetTitleEnabledForMultiplayerServersStatusResponse> GetTitleEnabledForMultiplayerServersStatus(final GetTitleEnabledForMultiplayerServersStatusRequest request) {
+        try {
+            return PlayFabMultiplayerAPI.privateGetTitleEnabledForMultiplayerServersStatusAsync(this, request);
+        } catch(Exception e) {
+            PlayFabResult<GetTitleEnabledForMultiplayerServersStatusResponse> exceptionResult = new PlayFabResult<GetTitleEnabledForMultiplayerServersStatusResponse>();
+            exceptionResult.Error = PlayFabHTTP.GeneratePfError(-1, PlayFabErrorCode.Unknown, e.getMessage(), null, null);
+            return exceptionResult;
+        }
+    }
+
+    /**
+     * Gets a title's server quota change request.
+     * @param request GetTitleMultiplayerServersQuotaChangeRequest
+     * @return GetTitleMultiplayerServersQuotaChangeResponse
+     */
+    public PlayFabResult<GetTitleMultiplayerServersQuotaChangeResponse> GetTitleMultiplayerServersQuotaChange(final GetTitleMultiplayerServersQuotaChangeRequest request) {
+        try {
+            return PlayFabMultiplayerAPI.privateGetTitleMultiplayerServersQuotaChangeAsync(this, request);
+        } catch(Exception e) {
+            PlayFabResult<GetTitleMultiplayerServersQuotaChangeResponse> exceptionResult = new PlayFabResult<GetTitleMultiplayerServersQuotaChangeResponse>();
+            exceptionResult.Error = PlayFabHTTP.GeneratePfError(-1, PlayFabErrorCode.Unknown, e.getMessage(), null, null);
+            return exceptionResult;
+        }
+    }
+
+    /**
+     * Gets the quotas for a title in relation to multiplayer servers.
+     * @param request GetTitleMultiplayerServersQuotasRequest
+     * @return GetTitleMultiplayerServersQuotasResponse
+     */
+    public PlayFabResult<GetTitleMultiplayerServersQuotasResponse> GetTitleMultiplayerServersQuotas(final GetTitleMultiplayerServersQuotasRequest request) {
+        try {
+            return PlayFabMultiplayerAPI.privateGetTitleMultiplayerServersQuotasAsync(this, request);
+        } catch(Exception e) {
+            PlayFabResult<GetTitleMultiplayerServersQuotasResponse> exceptionResult = new PlayFabResult<GetTitleMultiplayerServersQuotasResponse>();
+            exceptionResult.Error = PlayFabHTTP.GeneratePfError(-1, PlayFabErrorCode.Unknown, e.getMessage(), null, null);
+            return exceptionResult;
+        }
+    }
+
+    /**
+     * Join a matchmaking ticket.
+     * @param request JoinMatchmakingTicketRequest
+     * @return JoinMatchmakingTicketResult
+     */
+    public PlayFabResult<JoinMatchmakingTicketResult> JoinMatchmakingTicket(final JoinMatchmakingTicketRequest request) {
+        try {
+            return PlayFabMultiplayerAPI.privateJoinMatchmakingTicketAsync(this, request);
+        } catch(Exception e) {
+            PlayFabResult<JoinMatchmakingTicketResult> exceptionResult = new PlayFabResult<JoinMatchmakingTicketResult>();
+            exceptionResult.Error = PlayFabHTTP.GeneratePfError(-1, PlayFabErrorCode.Unknown, e.getMessage(), null, null);
+            return exceptionResult;
+        }
+    }
+
+    /**
+     * Lists archived multiplayer server sessions for a build.
+     * @param request ListMultiplayerServersRequest
+     * @return ListMultiplayerServersResponse
+     */
+    public PlayFabResult<ListMultiplayerServersResponse> ListArchivedMultiplayerServers(final ListMultiplayerServersRequest request) {
+        try {
+            return PlayFabMultiplayerAPI.privateListArchivedMultiplayerServersAsync(this, request);
+        } catch(Exception e) {
+            PlayFabResult<ListMultiplayerServersResponse> exceptionResult = new PlayFabResult<ListMultiplayerServersResponse>();
+            exceptionResult.Error = PlayFabHTTP.GeneratePfError(-1, PlayFabErrorCode.Unknown, e.getMessage(), null, null);
+            return exceptionResult;
+        }
+    }
+
+    /**
+     * Lists multiplayer server game assets for a title.
+     * @param request ListAssetSummariesRequest
+     * @return ListAssetSummariesResponse
+     */
+    public PlayFabResult<ListAssetSummariesResponse> ListAssetSummaries(final ListAssetSummariesRequest request) {
+        try {
+            return PlayFabMultiplayerAPI.privateListAssetSummariesAsync(this, request);
+        } catch(Exception e) {
+            PlayFabResult<ListAssetSummariesResponse> exceptionResult = new PlayFabResult<ListAssetSummariesResponse>();
+            exceptionResult.Error = PlayFabHTTP.GeneratePfError(-1, PlayFabErrorCode.Unknown, e.getMessage(), null, null);
+            return exceptionResult;
+        }
+    }
+
+    /**
+     * Lists details of all build aliases for a title. Accepts tokens for title and if game client access is enabled, allows
+     * game client to request list of builds with player entity token.
+     * @param request ListBuildAliasesRequest
+     * @return ListBuildAliasesResponse
+     */
+    public PlayFabResult<ListBuildAliasesResponse> ListBuildAliases(final ListBuildAliasesRequest request) {
+        try {
+            return PlayFabMultiplayerAPI.privateListBuildAliasesAsync(this, request);
+        } catch(Exception e) {
+            PlayFabResult<ListBuildAliasesResponse> exceptionResult = new PlayFabResult<ListBuildAliasesResponse>();
+            exceptionResult.Error = PlayFabHTTP.GeneratePfError(-1, PlayFabErrorCode.Unknown, e.getMessage(), null, null);
+            return exceptionResult;
+        }
+    }
+
+    /**
+     * Lists summarized details of all multiplayer server builds for a title. Accepts tokens for title and if game client
+     * access is enabled, allows game client to request list of builds with player entity token.
+     * @param request ListBuildSummariesRequest
+     * @return ListBuildSummariesResponse
+     */
+    public PlayFabResult<ListBuildSummariesResponse> ListBuildSummariesV2(final ListBuildSummariesRequest request) {
+        try {
+            return PlayFabMultiplayerAPI.privateListBuildSummariesV2Async(this, request);
+        } catch(Exception e) {
+            PlayFabResult<ListBuildSummariesResponse> exceptionResult = new PlayFabResult<ListBuildSummariesResponse>();
+            exceptionResult.Error = PlayFabHTTP.GeneratePfError(-1, PlayFabErrorCode.Unknown, e.getMessage(), null, null);
+            return exceptionResult;
+        }
+    }
+
+    /**
+     * Lists multiplayer server game certificates for a title.
+     * @param request ListCertificateSummariesRequest
+     * @return ListCertificateSummariesResponse
+     */
+    public PlayFabResult<ListCertificateSummariesResponse> ListCertificateSummaries(final ListCertificateSummariesRequest request) {
+        try {
+            return PlayFabMultiplayerAPI.privateListCertificateSummariesAsync(this, request);
+        } catch(Exception e) {
+            PlayFabResult<ListCertificateSummariesResponse> exceptionResult = new PlayFabResult<ListCertificateSummariesResponse>();
+            exceptionResult.Error = PlayFabHTTP.GeneratePfError(-1, PlayFabErrorCode.Unknown, e.getMessage(), null, null);
+            return exceptionResult;
+        }
+    }
+
+    /**
+     * Lists custom container images for a title.
+     * @param request ListContainerImagesRequest
+     * @return ListContainerImagesResponse
+     */
+    public PlayFabResult<ListContainerImagesResponse> ListContainerImages(final ListContainerImagesRequest request) {
+        try {
+            return PlayFabMultiplayerAPI.privateListContainerImagesAsync(this, request);
+        } catch(Exception e) {
+            PlayFabResult<ListContainerImagesResponse> exceptionResult = new PlayFabResult<ListContainerImagesResponse>();
+            exceptionResult.Error = PlayFabHTTP.GeneratePfError(-1, PlayFabErrorCode.Unknown, e.getMessage(), null, null);
+            return exceptionResult;
+        }
+    }
+
+    /**
+     * Lists the tags for a custom container image.
+     * @param request ListContainerImageTagsRequest
+     * @return ListContainerImageTagsResponse
+     */
+    public PlayFabResult<ListContainerImageTagsResponse> ListContainerImageTags(final ListContainerImageTagsRequest request) {
+        try {
+            return PlayFabMultiplayerAPI.privateListContainerImageTagsAsync(this, request);
+        } catch(Exception e) {
+            PlayFabResult<ListContainerImageTagsResponse> exceptionResult = new PlayFabResult<ListContainerImageTagsResponse>();
+            exceptionResult.Error = PlayFabHTTP.GeneratePfError(-1, PlayFabErrorCode.Unknown, e.getMessage(), null, null);
+            return exceptionResult;
+        }
+    }
+
+    /**
+     * List all matchmaking ticket Ids the user is a member of.
+     * @param request ListMatchmakingTicketsForPlayerRequest
+     * @return ListMatchmakingTicketsForPlayerResult
+     */
+    public PlayFabResult<ListMatchmakingTicketsForPlayerResult> ListMatchmakingTicketsForPlayer(final ListMatchmakingTicketsForPlayerRequest request) {
+        try {
+            return PlayFabMultiplayerAPI.privateListMatchmakingTicketsForPlayerAsync(this, request);
+        } catch(Exception e) {
+            PlayFabResult<ListMatchmakingTicketsForPlayerResult> exceptionResult = new PlayFabResult<ListMatchmakingTicketsForPlayerResult>();
+            exceptionResult.Error = PlayFabHTTP.GeneratePfError(-1, PlayFabErrorCode.Unknown, e.getMessage(), null, null);
+            return exceptionResult;
+        }
+    }
+
+    /**
+     * Lists multiplayer server sessions for a build.
+     * @param request ListMultiplayerServersRequest
+     * @return ListMultiplayerServersResponse
+     */
+    public PlayFabResult<ListMultiplayerServersResponse> ListMultiplayerServers(final ListMultiplayerServersRequest request) {
+        try {
+            return PlayFabMultiplayerAPI.privateListMultiplayerServersAsync(this, request);
+        } catch(Exception e) {
+            PlayFabResult<ListMultiplayerServersResponse> exceptionResult = new PlayFabResult<ListMultiplayerServersResponse>();
+            exceptionResult.Error = PlayFabHTTP.GeneratePfError(-1, PlayFabErrorCode.Unknown, e.getMessage(), null, null);
+            return exceptionResult;
+        }
+    }
+
+    /**
+     * Lists quality of service servers for party.
+     * @param request ListPartyQosServersRequest
+     * @return ListPartyQosServersResponse
+     */
+    public PlayFabResult<ListPartyQosServersResponse> ListPartyQosServers(final ListPartyQosServersRequest request) {
+        try {
+            return PlayFabMultiplayerAPI.privateListPartyQosServersAsync(this, request);
+        } catch(Exception e) {
+            PlayFabResult<ListPartyQosServersResponse> exceptionResult = new PlayFabResult<ListPartyQosServersResponse>();
+            exceptionResult.Error = PlayFabHTTP.GeneratePfError(-1, PlayFabErrorCode.Unknown, e.getMessage(), null, null);
+            return exceptionResult;
+        }
+    }
+
+    /**
+     * Lists quality of service servers for the title. By default, servers are only returned for regions where a Multiplayer
+     * Servers build has been deployed.
+     * @param request ListQosServersForTitleRequest
+     * @return ListQosServersForTitleResponse
+     */
+    public PlayFabResult<ListQosServersForTitleResponse> ListQosServersForTitle(final ListQosServersForTitleRequest request) {
+        try {
+            return PlayFabMultiplayerAPI.privateListQosServersForTitleAsync(this, request);
+        } catch(Exception e) {
+            PlayFabResult<ListQosServersForTitleResponse> exceptionResult = new PlayFabResult<ListQosServersForTitleResponse>();
+            exceptionResult.Error = PlayFabHTTP.GeneratePfError(-1, PlayFabErrorCode.Unknown, e.getMessage(), null, null);
+            return exceptionResult;
+        }
+    }
+
+    /**
+     * List all server backfill ticket Ids the user is a member of.
+     * @param request ListServerBackfillTicketsForPlayerRequest
+     * @return ListServerBackfillTicketsForPlayerResult
+     */
+    public PlayFabResult<ListServerBackfillTicketsForPlayerResult> ListServerBackfillTicketsForPlayer(final ListServerBackfillTicketsForPlayerRequest request) {
+        try {
+            return PlayFabMultiplayerAPI.privateListServerBackfillTicketsForPlayerAsync(this, request);
+        } catch(Exception e) {
+            PlayFabResult<ListServerBackfillTicketsForPlayerResult> exceptionResult = new PlayFabResult<ListServerBackfillTicketsForPlayerResult>();
+            exceptionResult.Error = PlayFabHTTP.GeneratePfError(-1, PlayFabErrorCode.Unknown, e.getMessage(), null, null);
+            return exceptionResult;
+        }
+    }
+
+    /**
+     * List all server quota change requests for a title.
+     * @param request ListTitleMultiplayerServersQuotaChangesRequest
+     * @return ListTitleMultiplayerServersQuotaChangesResponse
+     */
+    public PlayFabResult<ListTitleMultiplayerServersQuotaChangesResponse> ListTitleMultiplayerServersQuotaChanges(final ListTitleMultiplayerServersQuotaChangesRequest request) {
+        try {
+            return PlayFabMultiplayerAPI.privateListTitleMultiplayerServersQuotaChangesAsync(this, request);
+        } catch(Exception e) {
+            PlayFabResult<ListTitleMultiplayerServersQuotaChangesResponse> exceptionResult = new PlayFabResult<ListTitleMultiplayerServersQuotaChangesResponse>();
+            exceptionResult.Error = PlayFabHTTP.GeneratePfError(-1, PlayFabErrorCode.Unknown, e.getMessage(), null, null);
+            return exceptionResult;
+        }
+    }
+
+    /**
+     * Lists virtual machines for a title.
+     * @param request ListVirtualMachineSummariesRequest
+     * @return ListVirtualMachineSummariesResponse
+     */
+    public PlayFabResult<ListVirtualMachineSummariesResponse> ListVirtualMachineSummaries(final ListVirtualMachineSummariesRequest request) {
+        try {
+            return PlayFabMultiplayerAPI.privateListVirtualMachineSummariesAsync(this, request);
+        } catch(Exception e) {
+            PlayFabResult<ListVirtualMachineSummariesResponse> exceptionResult = new PlayFabResult<ListVirtualMachineSummariesResponse>();
+            exceptionResult.Error = PlayFabHTTP.GeneratePfError(-1, PlayFabErrorCode.Unknown, e.getMessage(), null, null);
+            return exceptionResult;
+        }
+    }
+
+    /**
+     * Request a multiplayer server session. Accepts tokens for title and if game client access is enabled, allows game client
+     * to request a server with player entity token.
+     * @param request RequestMultiplayerServerRequest
+     * @return RequestMultiplayerServerResponse
+     */
+    public PlayFabResult<RequestMultiplayerServerResponse> RequestMultiplayerServer(final RequestMultiplayerServerRequest request) {
+        try {
+            return PlayFabMultiplayerAPI.privateRequestMultiplayerServerAsync(this, request);
+        } catch(Exception e) {
+            PlayFabResult<RequestMultiplayerServerResponse> exceptionResult = new PlayFabResult<RequestMultiplayerServerResponse>();
+            exceptionResult.Error = PlayFabHTTP.GeneratePfError(-1, PlayFabErrorCode.Unknown, e.getMessage(), null, null);
+            return exceptionResult;
+        }
+    }
+
+    /**
+     * Rolls over the credentials to the container registry.
+     * @param request RolloverContainerRegistryCredentialsRequest
+     * @return RolloverContainerRegistryCredentialsResponse
+     */
+    public PlayFabResult<RolloverContainerRegistryCredentialsResponse> RolloverContainerRegistryCredentials(final RolloverContainerRegistryCredentialsRequest request) {
+        try {
+            return PlayFabMultiplayerAPI.privateRolloverContainerRegistryCredentialsAsync(this, request);
+        } catch(Exception e) {
+            PlayFabResult<RolloverContainerRegistryCredentialsResponse> exceptionResult = new PlayFabResult<RolloverContainerRegistryCredentialsResponse>();
+            exceptionResult.Error = PlayFabHTTP.GeneratePfError(-1, PlayFabErrorCode.Unknown, e.getMessage(), null, null);
+            return exceptionResult;
+        }
+    }
+
+    /**
+     * Shuts down a multiplayer server session.
+     * @param request ShutdownMultiplayerServerRequest
+     * @return EmptyResponse
+     */
+    public PlayFabResult<EmptyResponse> ShutdownMultiplayerServer(final ShutdownMultiplayerServerRequest request) {
+        try {
+            return PlayFabMultiplayerAPI.privateShutdownMultiplayerServerAsync(this, request);
+        } catch(Exception e) {
+            PlayFabResult<EmptyResponse> exceptionResult = new PlayFabResult<EmptyResponse>();
+            exceptionResult.Error = PlayFabHTTP.GeneratePfError(-1, PlayFabErrorCode.Unknown, e.getMessage(), null, null);
+            return exceptionResult;
+        }
+    }
+
+    /**
+     * Untags a container image.
+     * @param request UntagContainerImageRequest
+     * @return EmptyResponse
+     */
+    public PlayFabResult<EmptyResponse> UntagContainerImage(final UntagContainerImageRequest request) {
+        try {
+            return PlayFabMultiplayerAPI.privateUntagContainerImageAsync(this, request);
+        } catch(Exception e) {
+            PlayFabResult<EmptyResponse> exceptionResult = new PlayFabResult<EmptyResponse>();
+            exceptionResult.Error = PlayFabHTTP.GeneratePfError(-1, PlayFabErrorCode.Unknown, e.getMessage(), null, null);
+            return exceptionResult;
+        }
+    }
+
+    /**
+     * Creates a multiplayer server build alias.
+     * @param request UpdateBuildAliasRequest
+     * @return BuildAliasDetailsResponse
+     */
+    public PlayFabResult<BuildAliasDetailsResponse> UpdateBuildAlias(final UpdateBuildAliasRequest request) {
+        try {
+            return PlayFabMultiplayerAPI.privateUpdateBuildAliasAsync(this, request);
+        } catch(Exception e) {
+            PlayFabResult<BuildAliasDetailsResponse> exceptionResult = new PlayFabResult<BuildAliasDetailsResponse>();
+            exceptionResult.Error = PlayFabHTTP.GeneratePfError(-1, PlayFabErrorCode.Unknown, e.getMessage(), null, null);
+            return exceptionResult;
+        }
+    }
+
+    /**
+     * Updates a multiplayer server build's name.
+     * @param request UpdateBuildNameRequest
+     * @return EmptyResponse
+     */
+    public PlayFabResult<EmptyResponse> UpdateBuildName(final UpdateBuildNameRequest request) {
+        try {
+            return PlayFabMultiplayerAPI.privateUpdateBuildNameAsync(this, request);
+        } catch(Exception e) {
+            PlayFabResult<EmptyResponse> exceptionResult = new PlayFabResult<EmptyResponse>();
+            exceptionResult.Error = PlayFabHTTP.GeneratePfError(-1, PlayFabErrorCode.Unknown, e.getMessage(), null, null);
+            return exceptionResult;
+        }
+    }
+
+    /**
+     * Updates a multiplayer server build's region. If the region is not yet created, it will be created
+     * @param request UpdateBuildRegionRequest
+     * @return EmptyResponse
+     */
+    public PlayFabResult<EmptyResponse> UpdateBuildRegion(final UpdateBuildRegionRequest request) {
+        try {
+            return PlayFabMultiplayerAPI.privateUpdateBuildRegionAsync(this, request);
+        } catch(Exception e) {
+            PlayFabResult<EmptyResponse> exceptionResult = new PlayFabResult<EmptyResponse>();
+            exceptionResult.Error = PlayFabHTTP.GeneratePfError(-1, PlayFabErrorCode.Unknown, e.getMessage(), null, null);
+            return exceptionResult;
+        }
+    }
+
+    /**
+     * Updates a multiplayer server build's regions.
+     * @param request UpdateBuildRegionsRequest
+     * @return EmptyResponse
+     */
+    public PlayFabResult<EmptyResponse> UpdateBuildRegions(final UpdateBuildRegionsRequest request) {
+        try {
+            return PlayFabMultiplayerAPI.privateUpdateBuildRegionsAsync(this, request);
+        } catch(Exception e) {
+            PlayFabResult<EmptyResponse> exceptionResult = new PlayFabResult<EmptyResponse>();
+            exceptionResult.Error = PlayFabHTTP.GeneratePfError(-1, PlayFabErrorCode.Unknown, e.getMessage(), null, null);
+            return exceptionResult;
+        }
+    }
+
+    /**
+     * Uploads a multiplayer server game certificate.
+     * @param request UploadCertificateRequest
+     * @return EmptyResponse
+     */
+    public PlayFabResult<EmptyResponse> UploadCertificate(final UploadCertificateRequest request) {
+        try {
+            return PlayFabMultiplayerAPI.privateUploadCertificateAsync(this, request);
+        } catch(Exception e) {
+            PlayFabResult<EmptyResponse> exceptionResult = new PlayFabResult<EmptyResponse>();
+            exceptionResult.Error = PlayFabHTTP.GeneratePfError(-1, PlayFabErrorCode.Unknown, e.getMessage(), null, null);
+            return exceptionResult;
+        }
+    }
+
+    /**
+     * @return Non-blocking versions of every call, made with this object's context and started on PlayFabSettings.AsyncExecutor
+     */
+    public Async async() {
+        return async;
+    }
+
+    /**
+     * Non-blocking versions of the PlayFabMultiplayerInstanceAPI calls. Each call is already running when its PlayFabFuture is returned.
+     */
+    public class Async {
+        private Async() {
+        }
+
+        /**
+         * Cancel all active tickets the player is a member of in a given queue.
+         * @param request CancelAllMatchmakingTicketsForPlayerRequest
+         * @return Running future that will complete with CancelAllMatchmakingTicketsForPlayerResult
+         */
+        public PlayFabFuture<PlayFabResult<CancelAllMatchmakingTicketsForPlayerResult>> CancelAllMatchmakingTicketsForPlayer(final CancelAllMatchmakingTicketsForPlayerRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<CancelAllMatchmakingTicketsForPlayerResult>>() {
+                public PlayFabResult<CancelAllMatchmakingTicketsForPlayerResult> call() throws Exception {
+                    return PlayFabMultiplayerAPI.privateCancelAllMatchmakingTicketsForPlayerAsync(PlayFabMultiplayerInstanceAPI.this, request);
+                }
+            });
+        }
+
+        /**
+         * Cancel all active backfill tickets the player is a member of in a given queue.
+         * @param request CancelAllServerBackfillTicketsForPlayerRequest
+         * @return Running future that will complete with CancelAllServerBackfillTicketsForPlayerResult
+         */
+        public PlayFabFuture<PlayFabResult<CancelAllServerBackfillTicketsForPlayerResult>> CancelAllServerBackfillTicketsForPlayer(final CancelAllServerBackfillTicketsForPlayerRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<CancelAllServerBackfillTicketsForPlayerResult>>() {
+                public PlayFabResult<CancelAllServerBackfillTicketsForPlayerResult> call() throws Exception {
+                    return PlayFabMultiplayerAPI.privateCancelAllServerBackfillTicketsForPlayerAsync(PlayFabMultiplayerInstanceAPI.this, request);
+                }
+            });
+        }
+
+        /**
+         * Cancel a matchmaking ticket.
+         * @param request CancelMatchmakingTicketRequest
+         * @return Running future that will complete with CancelMatchmakingTicketResult
+         */
+        public PlayFabFuture<PlayFabResult<CancelMatchmakingTicketResult>> CancelMatchmakingTicket(final CancelMatchmakingTicketRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<CancelMatchmakingTicketResult>>() {
+                public PlayFabResult<CancelMatchmakingTicketResult> call() throws Exception {
+                    return PlayFabMultiplayerAPI.privateCancelMatchmakingTicketAsync(PlayFabMultiplayerInstanceAPI.this, request);
+                }
+            });
+        }
+
+        /**
+         * Cancel a server backfill ticket.
+         * @param request CancelServerBackfillTicketRequest
+         * @return Running future that will complete with CancelServerBackfillTicketResult
+         */
+        public PlayFabFuture<PlayFabResult<CancelServerBackfillTicketResult>> CancelServerBackfillTicket(final CancelServerBackfillTicketRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<CancelServerBackfillTicketResult>>() {
+                public PlayFabResult<CancelServerBackfillTicketResult> call() throws Exception {
+                    return PlayFabMultiplayerAPI.privateCancelServerBackfillTicketAsync(PlayFabMultiplayerInstanceAPI.this, request);
+                }
+            });
+        }
+
+        /**
+         * Creates a multiplayer server build alias.
+         * @param request CreateBuildAliasRequest
+         * @return Running future that will complete with BuildAliasDetailsResponse
+         */
+        public PlayFabFuture<PlayFabResult<BuildAliasDetailsResponse>> CreateBuildAlias(final CreateBuildAliasRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<BuildAliasDetailsResponse>>() {
+                public PlayFabResult<BuildAliasDetailsResponse> call() throws Exception {
+                    return PlayFabMultiplayerAPI.privateCreateBuildAliasAsync(PlayFabMultiplayerInstanceAPI.this, request);
+                }
+            });
+        }
+
+        /**
+         * Creates a multiplayer server build with a custom container.
+         * @param request CreateBuildWithCustomContainerRequest
+         * @return Running future that will complete with CreateBuildWithCustomContainerResponse
+         */
+        public PlayFabFuture<PlayFabResult<CreateBuildWithCustomContainerResponse>> CreateBuildWithCustomContainer(final CreateBuildWithCustomContainerRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<CreateBuildWithCustomContainerResponse>>() {
+                public PlayFabResult<CreateBuildWithCustomContainerResponse> call() throws Exception {
+                    return PlayFabMultiplayerAPI.privateCreateBuildWithCustomContainerAsync(PlayFabMultiplayerInstanceAPI.this, request);
+                }
+            });
+        }
+
+        /**
+         * Creates a multiplayer server build with a managed container.
+         * @param request CreateBuildWithManagedContainerRequest
+         * @return Running future that will complete with CreateBuildWithManagedContainerResponse
+         */
+        public PlayFabFuture<PlayFabResult<CreateBuildWithManagedContainerResponse>> CreateBuildWithManagedContainer(final CreateBuildWithManagedContainerRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<CreateBuildWithManagedContainerResponse>>() {
+                public PlayFabResult<CreateBuildWithManagedContainerResponse> call() throws Exception {
+                    return PlayFabMultiplayerAPI.privateCreateBuildWithManagedContainerAsync(PlayFabMultiplayerInstanceAPI.this, request);
+                }
+            });
+        }
+
+        /**
+         * Creates a multiplayer server build with the server running as a process.
+         * @param request CreateBuildWithProcessBasedServerRequest
+         * @return Running future that will complete with CreateBuildWithProcessBasedServerResponse
+         */
+        public PlayFabFuture<PlayFabResult<CreateBuildWithProcessBasedServerResponse>> CreateBuildWithProcessBasedServer(final CreateBuildWithProcessBasedServerRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<CreateBuildWithProcessBasedServerResponse>>() {
+                public PlayFabResult<CreateBuildWithProcessBasedServerResponse> call() throws Exception {
+                    return PlayFabMultiplayerAPI.privateCreateBuildWithProcessBasedServerAsync(PlayFabMultiplayerInstanceAPI.this, request);
+                }
+            });
+        }
+
+        /**
+         * Create a matchmaking ticket as a client.
+         * @param request CreateMatchmakingTicketRequest
+         * @return Running future that will complete with CreateMatchmakingTicketResult
+         */
+        public PlayFabFuture<PlayFabResult<CreateMatchmakingTicketResult>> CreateMatchmakingTicket(final CreateMatchmakingTicketRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<CreateMatchmakingTicketResult>>() {
+                public PlayFabResult<CreateMatchmakingTicketResult> call() throws Exception {
+                    return PlayFabMultiplayerAPI.privateCreateMatchmakingTicketAsync(PlayFabMultiplayerInstanceAPI.this, request);
+                }
+            });
+        }
+
+        /**
+         * Creates a remote user to log on to a VM for a multiplayer server build.
+         * @param request CreateRemoteUserRequest
+         * @return Running future that will complete with CreateRemoteUserResponse
+         */
+        public PlayFabFuture<PlayFabResult<CreateRemoteUserResponse>> CreateRemoteUser(final CreateRemoteUserRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<CreateRemoteUserResponse>>() {
+                public PlayFabResult<CreateRemoteUserResponse> call() throws Exception {
+                    return PlayFabMultiplayerAPI.privateCreateRemoteUserAsync(PlayFabMultiplayerInstanceAPI.this, request);
+                }
+            });
+        }
+
+        /**
+         * Create a backfill matchmaking ticket as a server. A backfill ticket represents an ongoing game. The matchmaking service
+         * automatically starts matching the backfill ticket against other matchmaking tickets. Backfill tickets cannot match with
+         * other backfill tickets.
+         * @param request CreateServerBackfillTicketRequest
+         * @return Running future that will complete with CreateServerBackfillTicketResult
+         */
+        public PlayFabFuture<PlayFabResult<CreateServerBackfillTicketResult>> CreateServerBackfillTicket(final CreateServerBackfillTicketRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<CreateServerBackfillTicketResult>>() {
+                public PlayFabResult<CreateServerBackfillTicketResult> call() throws Exception {
+                    return PlayFabMultiplayerAPI.privateCreateServerBackfillTicketAsync(PlayFabMultiplayerInstanceAPI.this, request);
+                }
+            });
+        }
+
+        /**
+         * Create a matchmaking ticket as a server. The matchmaking service automatically starts matching the ticket against other
+         * matchmaking tickets.
+         * @param request CreateServerMatchmakingTicketRequest
+         * @return Running future that will complete with CreateMatchmakingTicketResult
+         */
+        public PlayFabFuture<PlayFabResult<CreateMatchmakingTicketResult>> CreateServerMatchmakingTicket(final CreateServerMatchmakingTicketRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<CreateMatchmakingTicketResult>>() {
+                public PlayFabResult<CreateMatchmakingTicketResult> call() throws Exception {
+                    return PlayFabMultiplayerAPI.privateCreateServerMatchmakingTicketAsync(PlayFabMultiplayerInstanceAPI.this, request);
+                }
+            });
+        }
+
+        /**
+         * Creates a request to change a title's multiplayer server quotas.
+         * @param request CreateTitleMultiplayerServersQuotaChangeRequest
+         * @return Running future that will complete with CreateTitleMultiplayerServersQuotaChangeResponse
+         */
+        public PlayFabFuture<PlayFabResult<CreateTitleMultiplayerServersQuotaChangeResponse>> CreateTitleMultiplayerServersQuotaChange(final CreateTitleMultiplayerServersQuotaChangeRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<CreateTitleMultiplayerServersQuotaChangeResponse>>() {
+                public PlayFabResult<CreateTitleMultiplayerServersQuotaChangeResponse> call() throws Exception {
+                    return PlayFabMultiplayerAPI.privateCreateTitleMultiplayerServersQuotaChangeAsync(PlayFabMultiplayerInstanceAPI.this, request);
+                }
+            });
+        }
+
+        /**
+         * Deletes a multiplayer server game asset for a title.
+         * @param request DeleteAssetRequest
+         * @return Running future that will complete with EmptyResponse
+         */
+        public PlayFabFuture<PlayFabResult<EmptyResponse>> DeleteAsset(final DeleteAssetRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<EmptyResponse>>() {
+                public PlayFabResult<EmptyResponse> call() throws Exception {
+                    return PlayFabMultiplayerAPI.privateDeleteAssetAsync(PlayFabMultiplayerInstanceAPI.this, request);
+                }
+            });
+        }
+
+        /**
+         * Deletes a multiplayer server build.
+         * @param request DeleteBuildRequest
+         * @return Running future that will complete with EmptyResponse
+         */
+        public PlayFabFuture<PlayFabResult<EmptyResponse>> DeleteBuild(final DeleteBuildRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<EmptyResponse>>() {
+                public PlayFabResult<EmptyResponse> call() throws Exception {
+                    return PlayFabMultiplayerAPI.privateDeleteBuildAsync(PlayFabMultiplayerInstanceAPI.this, request);
+                }
+            });
+        }
+
+        /**
+         * Deletes a multiplayer server build alias.
+         * @param request DeleteBuildAliasRequest
+         * @return Running future that will complete with EmptyResponse
+         */
+        public PlayFabFuture<PlayFabResult<EmptyResponse>> DeleteBuildAlias(final DeleteBuildAliasRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<EmptyResponse>>() {
+                public PlayFabResult<EmptyResponse> call() throws Exception {
+                    return PlayFabMultiplayerAPI.privateDeleteBuildAliasAsync(PlayFabMultiplayerInstanceAPI.this, request);
+                }
+            });
+        }
+
+        /**
+         * Removes a multiplayer server build's region.
+         * @param request DeleteBuildRegionRequest
+         * @return Running future that will complete with EmptyResponse
+         */
+        public PlayFabFuture<PlayFabResult<EmptyResponse>> DeleteBuildRegion(final DeleteBuildRegionRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<EmptyResponse>>() {
+                public PlayFabResult<EmptyResponse> call() throws Exception {
+                    return PlayFabMultiplayerAPI.privateDeleteBuildRegionAsync(PlayFabMultiplayerInstanceAPI.this, request);
+                }
+            });
+        }
+
+        /**
+         * Deletes a multiplayer server game certificate.
+         * @param request DeleteCertificateRequest
+         * @return Running future that will complete with EmptyResponse
+         */
+        public PlayFabFuture<PlayFabResult<EmptyResponse>> DeleteCertificate(final DeleteCertificateRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<EmptyResponse>>() {
+                public PlayFabResult<EmptyResponse> call() throws Exception {
+                    return PlayFabMultiplayerAPI.privateDeleteCertificateAsync(PlayFabMultiplayerInstanceAPI.this, request);
+                }
+            });
+        }
+
+        /**
+         * Deletes a container image repository.
+         * @param request DeleteContainerImageRequest
+         * @return Running future that will complete with EmptyResponse
+         */
+        public PlayFabFuture<PlayFabResult<EmptyResponse>> DeleteContainerImageRepository(final DeleteContainerImageRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<EmptyResponse>>() {
+                public PlayFabResult<EmptyResponse> call() throws Exception {
+                    return PlayFabMultiplayerAPI.privateDeleteContainerImageRepositoryAsync(PlayFabMultiplayerInstanceAPI.this, request);
+                }
+            });
+        }
+
+        /**
+         * Deletes a remote user to log on to a VM for a multiplayer server build.
+         * @param request DeleteRemoteUserRequest
+         * @return Running future that will complete with EmptyResponse
+         */
+        public PlayFabFuture<PlayFabResult<EmptyResponse>> DeleteRemoteUser(final DeleteRemoteUserRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<EmptyResponse>>() {
+                public PlayFabResult<EmptyResponse> call() throws Exception {
+                    return PlayFabMultiplayerAPI.privateDeleteRemoteUserAsync(PlayFabMultiplayerInstanceAPI.this, request);
+                }
+            });
+        }
+
+        /**
+         * Enables the multiplayer server feature for a title.
+         * @param request EnableMultiplayerServersForTitleRequest
+         * @return Running future that will complete with EnableMultiplayerServersForTitleResponse
+         */
+        public PlayFabFuture<PlayFabResult<EnableMultiplayerServersForTitleResponse>> EnableMultiplayerServersForTitle(final EnableMultiplayerServersForTitleRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<EnableMultiplayerServersForTitleResponse>>() {
+                public PlayFabResult<EnableMultiplayerServersForTitleResponse> call() throws Exception {
+                    return PlayFabMultiplayerAPI.privateEnableMultiplayerServersForTitleAsync(PlayFabMultiplayerInstanceAPI.this, request);
+                }
+            });
+        }
+
+        /**
+         * Gets a URL that can be used to download the specified asset. A sample pre-authenticated url -
+         * https://sampleStorageAccount.blob.core.windows.net/gameassets/gameserver.zip?sv=2015-04-05&amp;ss=b&amp;srt=sco&amp;sp=rw&amp;st=startDate&amp;se=endDate&amp;spr=https&amp;sig=sampleSig&amp;api-version=2017-07-29
+         * @param request GetAssetDownloadUrlRequest
+         * @return Running future that will complete with GetAssetDownloadUrlResponse
+         */
+        public PlayFabFuture<PlayFabResult<GetAssetDownloadUrlResponse>> GetAssetDownloadUrl(final GetAssetDownloadUrlRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<GetAssetDownloadUrlResponse>>() {
+                public PlayFabResult<GetAssetDownloadUrlResponse> call() throws Exception {
+                    return PlayFabMultiplayerAPI.privateGetAssetDownloadUrlAsync(PlayFabMultiplayerInstanceAPI.this, request);
+                }
+            });
+        }
+
+        /**
+         * Gets the URL to upload assets to. A sample pre-authenticated url -
+         * https://sampleStorageAccount.blob.core.windows.net/gameassets/gameserver.zip?sv=2015-04-05&amp;ss=b&amp;srt=sco&amp;sp=rw&amp;st=startDate&amp;se=endDate&amp;spr=https&amp;sig=sampleSig&amp;api-version=2017-07-29
+         * @param request GetAssetUploadUrlRequest
+         * @return Running future that will complete with GetAssetUploadUrlResponse
+         */
+        public PlayFabFuture<PlayFabResult<GetAssetUploadUrlResponse>> GetAssetUploadUrl(final GetAssetUploadUrlRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<GetAssetUploadUrlResponse>>() {
+                public PlayFabResult<GetAssetUploadUrlResponse> call() throws Exception {
+                    return PlayFabMultiplayerAPI.privateGetAssetUploadUrlAsync(PlayFabMultiplayerInstanceAPI.this, request);
+                }
+            });
+        }
+
+        /**
+         * Gets a multiplayer server build.
+         * @param request GetBuildRequest
+         * @return Running future that will complete with GetBuildResponse
+         */
+        public PlayFabFuture<PlayFabResult<GetBuildResponse>> GetBuild(final GetBuildRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<GetBuildResponse>>() {
+                public PlayFabResult<GetBuildResponse> call() throws Exception {
+                    return PlayFabMultiplayerAPI.privateGetBuildAsync(PlayFabMultiplayerInstanceAPI.this, request);
+                }
+            });
+        }
+
+        /**
+         * Gets a multiplayer server build alias.
+         * @param request GetBuildAliasRequest
+         * @return Running future that will complete with BuildAliasDetailsResponse
+         */
+        public PlayFabFuture<PlayFabResult<BuildAliasDetailsResponse>> GetBuildAlias(final GetBuildAliasRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<BuildAliasDetailsResponse>>() {
+                public PlayFabResult<BuildAliasDetailsResponse> call() throws Exception {
+                    return PlayFabMultiplayerAPI.privateGetBuildAliasAsync(PlayFabMultiplayerInstanceAPI.this, request);
+                }
+            });
+        }
+
+        /**
+         * Gets the credentials to the container registry.
+         * @param request GetContainerRegistryCredentialsRequest
+         * @return Running future that will complete with GetContainerRegistryCredentialsResponse
+         */
+        public PlayFabFuture<PlayFabResult<GetContainerRegistryCredentialsResponse>> GetContainerRegistryCredentials(final GetContainerRegistryCredentialsRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<GetContainerRegistryCredentialsResponse>>() {
+                public PlayFabResult<GetContainerRegistryCredentialsResponse> call() throws Exception {
+                    return PlayFabMultiplayerAPI.privateGetContainerRegistryCredentialsAsync(PlayFabMultiplayerInstanceAPI.this, request);
+                }
+            });
+        }
+
+        /**
+         * Get a match.
+         * @param request GetMatchRequest
+         * @return Running future that will complete with GetMatchResult
+         */
+        public PlayFabFuture<PlayFabResult<GetMatchResult>> GetMatch(final GetMatchRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<GetMatchResult>>() {
+                public PlayFabResult<GetMatchResult> call() throws Exception {
+                    return PlayFabMultiplayerAPI.privateGetMatchAsync(PlayFabMultiplayerInstanceAPI.this, request);
+                }
+            });
+        }
+
+        /**
+         * Get a matchmaking ticket by ticket Id.
+         * @param request GetMatchmakingTicketRequest
+         * @return Running future that will complete with GetMatchmakingTicketResult
+         */
+        public PlayFabFuture<PlayFabResult<GetMatchmakingTicketResult>> GetMatchmakingTicket(final GetMatchmakingTicketRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<GetMatchmakingTicketResult>>() {
+                public PlayFabResult<GetMatchmakingTicketResult> call() throws Exception {
+                    return PlayFabMultiplayerAPI.privateGetMatchmakingTicketAsync(PlayFabMultiplayerInstanceAPI.this, request);
+                }
+            });
+        }
+
+        /**
+         * Gets multiplayer server session details for a build.
+         * @param request GetMultiplayerServerDetailsRequest
+         * @return Running future that will complete with GetMultiplayerServerDetailsResponse
+         */
+        public PlayFabFuture<PlayFabResult<GetMultiplayerServerDetailsResponse>> GetMultiplayerServerDetails(final GetMultiplayerServerDetailsRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<GetMultiplayerServerDetailsResponse>>() {
+                public PlayFabResult<GetMultiplayerServerDetailsResponse> call() throws Exception {
+                    return PlayFabMultiplayerAPI.privateGetMultiplayerServerDetailsAsync(PlayFabMultiplayerInstanceAPI.this, request);
+                }
+            });
+        }
+
+        /**
+         * Gets multiplayer server logs after a server has terminated.
+         * @param request GetMultiplayerServerLogsRequest
+         * @return Running future that will complete with GetMultiplayerServerLogsResponse
+         */
+        public PlayFabFuture<PlayFabResult<GetMultiplayerServerLogsResponse>> GetMultiplayerServerLogs(final GetMultiplayerServerLogsRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<GetMultiplayerServerLogsResponse>>() {
+                public PlayFabResult<GetMultiplayerServerLogsResponse> call() throws Exception {
+                    return PlayFabMultiplayerAPI.privateGetMultiplayerServerLogsAsync(PlayFabMultiplayerInstanceAPI.this, request);
+                }
+            });
+        }
+
+        /**
+         * Gets multiplayer server logs after a server has terminated.
+         * @param request GetMultiplayerSessionLogsBySessionIdRequest
+         * @return Running future that will complete with GetMultiplayerServerLogsResponse
+         */
+        public PlayFabFuture<PlayFabResult<GetMultiplayerServerLogsResponse>> GetMultiplayerSessionLogsBySessionId(final GetMultiplayerSessionLogsBySessionIdRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<GetMultiplayerServerLogsResponse>>() {
+                public PlayFabResult<GetMultiplayerServerLogsResponse> call() throws Exception {
+                    return PlayFabMultiplayerAPI.privateGetMultiplayerSessionLogsBySessionIdAsync(PlayFabMultiplayerInstanceAPI.this, request);
+                }
+            });
+        }
+
+        /**
+         * Get the statistics for a queue.
+         * @param request GetQueueStatisticsRequest
+         * @return Running future that will complete with GetQueueStatisticsResult
+         */
+        public PlayFabFuture<PlayFabResult<GetQueueStatisticsResult>> GetQueueStatistics(final GetQueueStatisticsRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<GetQueueStatisticsResult>>() {
+                public PlayFabResult<GetQueueStatisticsResult> call() throws Exception {
+                    return PlayFabMultiplayerAPI.privateGetQueueStatisticsAsync(PlayFabMultiplayerInstanceAPI.this, request);
+                }
+            });
+        }
+
+        /**
+         * Gets a remote login endpoint to a VM that is hosting a multiplayer server build.
+         * @param request GetRemoteLoginEndpointRequest
+         * @return Running future that will complete with GetRemoteLoginEndpointResponse
+         */
+        public PlayFabFuture<PlayFabResult<GetRemoteLoginEndpointResponse>> GetRemoteLoginEndpoint(final GetRemoteLoginEndpointRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<GetRemoteLoginEndpointResponse>>() {
+                public PlayFabResult<GetRemoteLoginEndpointResponse> call() throws Exception {
+                    return PlayFabMultiplayerAPI.privateGetRemoteLoginEndpointAsync(PlayFabMultiplayerInstanceAPI.this, request);
+                }
+            });
+        }
+
+        /**
+         * Get a matchmaking backfill ticket by ticket Id.
+         * @param request GetServerBackfillTicketRequest
+         * @return Running future that will complete with GetServerBackfillTicketResult
+         */
+        public PlayFabFuture<PlayFabResult<GetServerBackfillTicketResult>> GetServerBackfillTicket(final GetServerBackfillTicketRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<GetServerBackfillTicketResult>>() {
+                public PlayFabResult<GetServerBackfillTicketResult> call() throws Exception {
+                    return PlayFabMultiplayerAPI.privateGetServerBackfillTicketAsync(PlayFabMultiplayerInstanceAPI.this, request);
+                }
+            });
+        }
+
+        /**
+         * Gets the status of whether a title is enabled for the multiplayer server feature.
+         * @param request GetTitleEnabledForMultiplayerServersStatusRequest
+         * @return Running future that will complete with GetTitleEnabledForMultiplayerServersStatusResponse
+         */
+        public PlayFabFuture<PlayFabResult<GetTitleEnabledForMultiplayerServersStatusResponse>> GetTitleEnabledForMultiplayerServersStatus(final GetTitleEnabledForMultiplayerServersStatusRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<GetTitleEnabledForMultiplayerServersStatusResponse>>() {
+                public PlayFabResult<GetTitleEnabledForMultiplayerServersStatusResponse> call() throws Exception {
+                    return PlayFabMultiplayerAPI.privateGetTitleEnabledForMultiplayerServersStatusAsync(PlayFabMultiplayerInstanceAPI.this, request);
+                }
+            });
+        }
+
+        /**
+         * Gets a title's server quota change request.
+         * @param request GetTitleMultiplayerServersQuotaChangeRequest
+         * @return Running future that will complete with GetTitleMultiplayerServersQuotaChangeResponse
+         */
+        public PlayFabFuture<PlayFabResult<GetTitleMultiplayerServersQuotaChangeResponse>> GetTitleMultiplayerServersQuotaChange(final GetTitleMultiplayerServersQuotaChangeRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<GetTitleMultiplayerServersQuotaChangeResponse>>() {
+                public PlayFabResult<GetTitleMultiplayerServersQuotaChangeResponse> call() throws Exception {
+                    return PlayFabMultiplayerAPI.privateGetTitleMultiplayerServersQuotaChangeAsync(PlayFabMultiplayerInstanceAPI.this, request);
+                }
+            });
+        }
+
+        /**
+         * Gets the quotas for a title in relation to multiplayer servers.
+         * @param request GetTitleMultiplayerServersQuotasRequest
+         * @return Running future that will complete with GetTitleMultiplayerServersQuotasResponse
+         */
+        public PlayFabFuture<PlayFabResult<GetTitleMultiplayerServersQuotasResponse>> GetTitleMultiplayerServersQuotas(final GetTitleMultiplayerServersQuotasRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<GetTitleMultiplayerServersQuotasResponse>>() {
+                public PlayFabResult<GetTitleMultiplayerServersQuotasResponse> call() throws Exception {
+                    return PlayFabMultiplayerAPI.privateGetTitleMultiplayerServersQuotasAsync(PlayFabMultiplayerInstanceAPI.this, request);
+                }
+            });
+        }
+
+        /**
+         * Join a matchmaking ticket.
+         * @param request JoinMatchmakingTicketRequest
+         * @return Running future that will complete with JoinMatchmakingTicketResult
+         */
+        public PlayFabFuture<PlayFabResult<JoinMatchmakingTicketResult>> JoinMatchmakingTicket(final JoinMatchmakingTicketRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<JoinMatchmakingTicketResult>>() {
+                public PlayFabResult<JoinMatchmakingTicketResult> call() throws Exception {
+                    return PlayFabMultiplayerAPI.privateJoinMatchmakingTicketAsync(PlayFabMultiplayerInstanceAPI.this, request);
+                }
+            });
+        }
+
+        /**
+         * Lists archived multiplayer server sessions for a build.
+         * @param request ListMultiplayerServersRequest
+         * @return Running future that will complete with ListMultiplayerServersResponse
+         */
+        public PlayFabFuture<PlayFabResult<ListMultiplayerServersResponse>> ListArchivedMultiplayerServers(final ListMultiplayerServersRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<ListMultiplayerServersResponse>>() {
+                public PlayFabResult<ListMultiplayerServersResponse> call() throws Exception {
+                    return PlayFabMultiplayerAPI.privateListArchivedMultiplayerServersAsync(PlayFabMultiplayerInstanceAPI.this, request);
+                }
+            });
+        }
+
+        /**
+         * Lists multiplayer server game assets for a title.
+         * @param request ListAssetSummariesRequest
+         * @return Running future that will complete with ListAssetSummariesResponse
+         */
+        public PlayFabFuture<PlayFabResult<ListAssetSummariesResponse>> ListAssetSummaries(final ListAssetSummariesRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<ListAssetSummariesResponse>>() {
+                public PlayFabResult<ListAssetSummariesResponse> call() throws Exception {
+                    return PlayFabMultiplayerAPI.privateListAssetSummariesAsync(PlayFabMultiplayerInstanceAPI.this, request);
+                }
+            });
+        }
+
+        /**
+         * Lists details of all build aliases for a title. Accepts tokens for title and if game client access is enabled, allows
+         * game client to request list of builds with player entity token.
+         * @param request ListBuildAliasesRequest
+         * @return Running future that will complete with ListBuildAliasesResponse
+         */
+        public PlayFabFuture<PlayFabResult<ListBuildAliasesResponse>> ListBuildAliases(final ListBuildAliasesRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<ListBuildAliasesResponse>>() {
+                public PlayFabResult<ListBuildAliasesResponse> call() throws Exception {
+                    return PlayFabMultiplayerAPI.privateListBuildAliasesAsync(PlayFabMultiplayerInstanceAPI.this, request);
+                }
+            });
+        }
+
+        /**
+         * Lists summarized details of all multiplayer server builds for a title. Accepts tokens for title and if game client
+         * access is enabled, allows game client to request list of builds with player entity token.
+         * @param request ListBuildSummariesRequest
+         * @return Running future that will complete with ListBuildSummariesResponse
+         */
+        public PlayFabFuture<PlayFabResult<ListBuildSummariesResponse>> ListBuildSummariesV2(final ListBuildSummariesRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<ListBuildSummariesResponse>>() {
+                public PlayFabResult<ListBuildSummariesResponse> call() throws Exception {
+                    return PlayFabMultiplayerAPI.privateListBuildSummariesV2Async(PlayFabMultiplayerInstanceAPI.this, request);
+                }
+            });
+        }
+
+        /**
+         * Lists multiplayer server game certificates for a title.
+         * @param request ListCertificateSummariesRequest
+         * @return Running future that will complete with ListCertificateSummariesResponse
+         */
+        public PlayFabFuture<PlayFabResult<ListCertificateSummariesResponse>> ListCertificateSummaries(final ListCertificateSummariesRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<ListCertificateSummariesResponse>>() {
+                public PlayFabResult<ListCertificateSummariesResponse> call() throws Exception {
+                    return PlayFabMultiplayerAPI.privateListCertificateSummariesAsync(PlayFabMultiplayerInstanceAPI.this, request);
+                }
+            });
+        }
+
+        /**
+         * Lists custom container images for a title.
+         * @param request ListContainerImagesRequest
+         * @return Running future that will complete with ListContainerImagesResponse
+         */
+        public PlayFabFuture<PlayFabResult<ListContainerImagesResponse>> ListContainerImages(final ListContainerImagesRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<ListContainerImagesResponse>>() {
+                public PlayFabResult<ListContainerImagesResponse> call() throws Exception {
+                    return PlayFabMultiplayerAPI.privateListContainerImagesAsync(PlayFabMultiplayerInstanceAPI.this, request);
+                }
+            });
+        }
+
+        /**
+         * Lists the tags for a custom container image.
+         * @param request ListContainerImageTagsRequest
+         * @return Running future that will complete with ListContainerImageTagsResponse
+         */
+        public PlayFabFuture<PlayFabResult<ListContainerImageTagsResponse>> ListContainerImageTags(final ListContainerImageTagsRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<ListContainerImageTagsResponse>>() {
+                public PlayFabResult<ListContainerImageTagsResponse> call() throws Exception {
+                    return PlayFabMultiplayerAPI.privateListContainerImageTagsAsync(PlayFabMultiplayerInstanceAPI.this, request);
+                }
+            });
+        }
+
+        /**
+         * List all matchmaking ticket Ids the user is a member of.
+         * @param request ListMatchmakingTicketsForPlayerRequest
+         * @return Running future that will complete with ListMatchmakingTicketsForPlayerResult
+         */
+        public PlayFabFuture<PlayFabResult<ListMatchmakingTicketsForPlayerResult>> ListMatchmakingTicketsForPlayer(final ListMatchmakingTicketsForPlayerRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<ListMatchmakingTicketsForPlayerResult>>() {
+                public PlayFabResult<ListMatchmakingTicketsForPlayerResult> call() throws Exception {
+                    return PlayFabMultiplayerAPI.privateListMatchmakingTicketsForPlayerAsync(PlayFabMultiplayerInstanceAPI.this, request);
+                }
+            });
+        }
+
+        /**
+         * Lists multiplayer server sessions for a build.
+         * @param request ListMultiplayerServersRequest
+         * @return Running future that will complete with ListMultiplayerServersResponse
+         */
+        public PlayFabFuture<PlayFabResult<ListMultiplayerServersResponse>> ListMultiplayerServers(final ListMultiplayerServersRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<ListMultiplayerServersResponse>>() {
+                public PlayFabResult<ListMultiplayerServersResponse> call() throws Exception {
+                    return PlayFabMultiplayerAPI.privateListMultiplayerServersAsync(PlayFabMultiplayerInstanceAPI.this, request);
+                }
+            });
+        }
+
+        /**
+         * Lists quality of service servers for party.
+         * @param request ListPartyQosServersRequest
+         * @return Running future that will complete with ListPartyQosServersResponse
+         */
+        public PlayFabFuture<PlayFabResult<ListPartyQosServersResponse>> ListPartyQosServers(final ListPartyQosServersRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<ListPartyQosServersResponse>>() {
+                public PlayFabResult<ListPartyQosServersResponse> call() throws Exception {
+                    return PlayFabMultiplayerAPI.privateListPartyQosServersAsync(PlayFabMultiplayerInstanceAPI.this, request);
+                }
+            });
+        }
+
+        /**
+         * Lists quality of service servers for the title. By default, servers are only returned for regions where a Multiplayer
+         * Servers build has been deployed.
+         * @param request ListQosServersForTitleRequest
+         * @return Running future that will complete with ListQosServersForTitleResponse
+         */
+        public PlayFabFuture<PlayFabResult<ListQosServersForTitleResponse>> ListQosServersForTitle(final ListQosServersForTitleRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<ListQosServersForTitleResponse>>() {
+                public PlayFabResult<ListQosServersForTitleResponse> call() throws Exception {
+                    return PlayFabMultiplayerAPI.privateListQosServersForTitleAsync(PlayFabMultiplayerInstanceAPI.this, request);
+                }
+            });
+        }
+
+        /**
+         * List all server backfill ticket Ids the user is a member of.
+         * @param request ListServerBackfillTicketsForPlayerRequest
+         * @return Running future that will complete with ListServerBackfillTicketsForPlayerResult
+         */
+        public PlayFabFuture<PlayFabResult<ListServerBackfillTicketsForPlayerResult>> ListServerBackfillTicketsForPlayer(final ListServerBackfillTicketsForPlayerRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<ListServerBackfillTicketsForPlayerResult>>() {
+                public PlayFabResult<ListServerBackfillTicketsForPlayerResult> call() throws Exception {
+                    return PlayFabMultiplayerAPI.privateListServerBackfillTicketsForPlayerAsync(PlayFabMultiplayerInstanceAPI.this, request);
+                }
+            });
+        }
+
+        /**
+         * List all server quota change requests for a title.
+         * @param request ListTitleMultiplayerServersQuotaChangesRequest
+         * @return Running future that will complete with ListTitleMultiplayerServersQuotaChangesResponse
+         */
+        public PlayFabFuture<PlayFabResult<ListTitleMultiplayerServersQuotaChangesResponse>> ListTitleMultiplayerServersQuotaChanges(final ListTitleMultiplayerServersQuotaChangesRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<ListTitleMultiplayerServersQuotaChangesResponse>>() {
+                public PlayFabResult<ListTitleMultiplayerServersQuotaChangesResponse> call() throws Exception {
+                    return PlayFabMultiplayerAPI.privateListTitleMultiplayerServersQuotaChangesAsync(PlayFabMultiplayerInstanceAPI.this, request);
+                }
+            });
+        }
+
+        /**
+         * Lists virtual machines for a title.
+         * @param request ListVirtualMachineSummariesRequest
+         * @return Running future that will complete with ListVirtualMachineSummariesResponse
+         */
+        public PlayFabFuture<PlayFabResult<ListVirtualMachineSummariesResponse>> ListVirtualMachineSummaries(final ListVirtualMachineSummariesRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<ListVirtualMachineSummariesResponse>>() {
+                public PlayFabResult<ListVirtualMachineSummariesResponse> call() throws Exception {
+                    return PlayFabMultiplayerAPI.privateListVirtualMachineSummariesAsync(PlayFabMultiplayerInstanceAPI.this, request);
+                }
+            });
+        }
+
+        /**
+         * Request a multiplayer server session. Accepts tokens for title and if game client access is enabled, allows game client
+         * to request a server with player entity token.
+         * @param request RequestMultiplayerServerRequest
+         * @return Running future that will complete with RequestMultiplayerServerResponse
+         */
+        public PlayFabFuture<PlayFabResult<RequestMultiplayerServerResponse>> RequestMultiplayerServer(final RequestMultiplayerServerRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<RequestMultiplayerServerResponse>>() {
+                public PlayFabResult<RequestMultiplayerServerResponse> call() throws Exception {
+                    return PlayFabMultiplayerAPI.privateRequestMultiplayerServerAsync(PlayFabMultiplayerInstanceAPI.this, request);
+                }
+            });
+        }
+
+        /**
+         * Rolls over the credentials to the container registry.
+         * @param request RolloverContainerRegistryCredentialsRequest
+         * @return Running future that will complete with RolloverContainerRegistryCredentialsResponse
+         */
+        public PlayFabFuture<PlayFabResult<RolloverContainerRegistryCredentialsResponse>> RolloverContainerRegistryCredentials(final RolloverContainerRegistryCredentialsRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<RolloverContainerRegistryCredentialsResponse>>() {
+                public PlayFabResult<RolloverContainerRegistryCredentialsResponse> call() throws Exception {
+                    return PlayFabMultiplayerAPI.privateRolloverContainerRegistryCredentialsAsync(PlayFabMultiplayerInstanceAPI.this, request);
+                }
+            });
+        }
+
+        /**
+         * Shuts down a multiplayer server session.
+         * @param request ShutdownMultiplayerServerRequest
+         * @return Running future that will complete with EmptyResponse
+         */
+        public PlayFabFuture<PlayFabResult<EmptyResponse>> ShutdownMultiplayerServer(final ShutdownMultiplayerServerRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<EmptyResponse>>() {
+                public PlayFabResult<EmptyResponse> call() throws Exception {
+                    return PlayFabMultiplayerAPI.privateShutdownMultiplayerServerAsync(PlayFabMultiplayerInstanceAPI.this, request);
+                }
+            });
+        }
+
+        /**
+         * Untags a container image.
+         * @param request UntagContainerImageRequest
+         * @return Running future that will complete with EmptyResponse
+         */
+        public PlayFabFuture<PlayFabResult<EmptyResponse>> UntagContainerImage(final UntagContainerImageRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<EmptyResponse>>() {
+                public PlayFabResult<EmptyResponse> call() throws Exception {
+                    return PlayFabMultiplayerAPI.privateUntagContainerImageAsync(PlayFabMultiplayerInstanceAPI.this, request);
+                }
+            });
+        }
+
+        /**
+         * Creates a multiplayer server build alias.
+         * @param request UpdateBuildAliasRequest
+         * @return Running future that will complete with BuildAliasDetailsResponse
+         */
+        public PlayFabFuture<PlayFabResult<BuildAliasDetailsResponse>> UpdateBuildAlias(final UpdateBuildAliasRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<BuildAliasDetailsResponse>>() {
+                public PlayFabResult<BuildAliasDetailsResponse> call() throws Exception {
+                    return PlayFabMultiplayerAPI.privateUpdateBuildAliasAsync(PlayFabMultiplayerInstanceAPI.this, request);
+                }
+            });
+        }
+
+        /**
+         * Updates a multiplayer server build's name.
+         * @param request UpdateBuildNameRequest
+         * @return Running future that will complete with EmptyResponse
+         */
+        public PlayFabFuture<PlayFabResult<EmptyResponse>> UpdateBuildName(final UpdateBuildNameRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<EmptyResponse>>() {
+                public PlayFabResult<EmptyResponse> call() throws Exception {
+                    return PlayFabMultiplayerAPI.privateUpdateBuildNameAsync(PlayFabMultiplayerInstanceAPI.this, request);
+                }
+            });
+        }
+
+        /**
+         * Updates a multiplayer server build's region. If the region is not yet created, it will be created
+         * @param request UpdateBuildRegionRequest
+         * @return Running future that will complete with EmptyResponse
+         */
+        public PlayFabFuture<PlayFabResult<EmptyResponse>> UpdateBuildRegion(final UpdateBuildRegionRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<EmptyResponse>>() {
+                public PlayFabResult<EmptyResponse> call() throws Exception {
+                    return PlayFabMultiplayerAPI.privateUpdateBuildRegionAsync(PlayFabMultiplayerInstanceAPI.this, request);
+                }
+            });
+        }
+
+        /**
+         * Updates a multiplayer server build's regions.
+         * @param request UpdateBuildRegionsRequest
+         * @return Running future that will complete with EmptyResponse
+         */
+        public PlayFabFuture<PlayFabResult<EmptyResponse>> UpdateBuildRegions(final UpdateBuildRegionsRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<EmptyResponse>>() {
+                public PlayFabResult<EmptyResponse> call() throws Exception {
+                    return PlayFabMultiplayerAPI.privateUpdateBuildRegionsAsync(PlayFabMultiplayerInstanceAPI.this, request);
+                }
+            });
+        }
+
+        /**
+         * Uploads a multiplayer server game certificate.
+         * @param request UploadCertificateRequest
+         * @return Running future that will complete with EmptyResponse
+         */
+        public PlayFabFuture<PlayFabResult<EmptyResponse>> UploadCertificate(final UploadCertificateRequest request) {
+            return PlayFabFuture.start(new Callable<PlayFabResult<EmptyResponse>>() {
+                public PlayFabResult<EmptyResponse> call() throws Exception {
+                    return PlayFabMultiplayerAPI.privateUploadCertificateAsync(PlayFabMultiplayerInstanceAPI.this, request);
+                }
+            });
+        }
+    }
+}
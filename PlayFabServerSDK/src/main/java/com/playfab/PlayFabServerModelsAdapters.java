@@ -0,0 +1,14109 @@
+package com.playfab;
+
+import java.io.IOException;
+import java.util.Date;
+import com.google.gson.*;
+import com.google.gson.reflect.TypeToken;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
+import com.playfab.PlayFabServerModels.*;
+import com.playfab.internal.PlayFabJson;
+
+/**
+ * Streaming TypeAdapters for every class in PlayFabServerModels, so models are read and written without field reflection.
+ * PlayFabJson finds FACTORY through this class name. Enums keep Gson's own adapters, which do no per-call reflection.
+ * Generated from PlayFabServerModels by PlayFabModelAdaptersGenerator, in the PlayFabSDK tests: regenerate rather than edit.
+ */
+public class PlayFabServerModelsAdapters {
+    public static final TypeAdapterFactory FACTORY = new TypeAdapterFactory() {
+        @SuppressWarnings("unchecked")
+        public <T> TypeAdapter<T> create(Gson gson, TypeToken<T> type) {
+            Class<?> raw = type.getRawType();
+            if (raw.getDeclaringClass() != PlayFabServerModels.class)
+                return null;
+            switch (raw.getSimpleName()) {
+                case "AdCampaignAttribution": return (TypeAdapter<T>) new AdCampaignAttributionAdapter(gson);
+                case "AdCampaignAttributionModel": return (TypeAdapter<T>) new AdCampaignAttributionModelAdapter(gson);
+                case "AddCharacterVirtualCurrencyRequest": return (TypeAdapter<T>) new AddCharacterVirtualCurrencyRequestAdapter(gson);
+                case "AddFriendRequest": return (TypeAdapter<T>) new AddFriendRequestAdapter(gson);
+                case "AddGenericIDRequest": return (TypeAdapter<T>) new AddGenericIDRequestAdapter(gson);
+                case "AddPlayerTagRequest": return (TypeAdapter<T>) new AddPlayerTagRequestAdapter(gson);
+                case "AddPlayerTagResult": return (TypeAdapter<T>) new AddPlayerTagResultAdapter(gson);
+                case "AddSharedGroupMembersRequest": return (TypeAdapter<T>) new AddSharedGroupMembersRequestAdapter(gson);
+                case "AddSharedGroupMembersResult": return (TypeAdapter<T>) new AddSharedGroupMembersResultAdapter(gson);
+                case "AddUserVirtualCurrencyRequest": return (TypeAdapter<T>) new AddUserVirtualCurrencyRequestAdapter(gson);
+                case "AdvancedPushPlatformMsg": return (TypeAdapter<T>) new AdvancedPushPlatformMsgAdapter(gson);
+                case "AuthenticateSessionTicketRequest": return (TypeAdapter<T>) new AuthenticateSessionTicketRequestAdapter(gson);
+                case "AuthenticateSessionTicketResult": return (TypeAdapter<T>) new AuthenticateSessionTicketResultAdapter(gson);
+                case "AwardSteamAchievementItem": return (TypeAdapter<T>) new AwardSteamAchievementItemAdapter(gson);
+                case "AwardSteamAchievementRequest": return (TypeAdapter<T>) new AwardSteamAchievementRequestAdapter(gson);
+                case "AwardSteamAchievementResult": return (TypeAdapter<T>) new AwardSteamAchievementResultAdapter(gson);
+                case "BanInfo": return (TypeAdapter<T>) new BanInfoAdapter(gson);
+                case "BanRequest": return (TypeAdapter<T>) new BanRequestAdapter(gson);
+                case "BanUsersRequest": return (TypeAdapter<T>) new BanUsersRequestAdapter(gson);
+                case "BanUsersResult": return (TypeAdapter<T>) new BanUsersResultAdapter(gson);
+                case "CatalogItem": return (TypeAdapter<T>) new CatalogItemAdapter(gson);
+                case "CatalogItemBundleInfo": return (TypeAdapter<T>) new CatalogItemBundleInfoAdapter(gson);
+                case "CatalogItemConsumableInfo": return (TypeAdapter<T>) new CatalogItemConsumableInfoAdapter(gson);
+                case "CatalogItemContainerInfo": return (TypeAdapter<T>) new CatalogItemContainerInfoAdapter(gson);
+                case "CharacterInventory": return (TypeAdapter<T>) new CharacterInventoryAdapter(gson);
+                case "CharacterLeaderboardEntry": return (TypeAdapter<T>) new CharacterLeaderboardEntryAdapter(gson);
+                case "CharacterResult": return (TypeAdapter<T>) new CharacterResultAdapter(gson);
+                case "ConsumeItemRequest": return (TypeAdapter<T>) new ConsumeItemRequestAdapter(gson);
+                case "ConsumeItemResult": return (TypeAdapter<T>) new ConsumeItemResultAdapter(gson);
+                case "ContactEmailInfo": return (TypeAdapter<T>) new ContactEmailInfoAdapter(gson);
+                case "ContactEmailInfoModel": return (TypeAdapter<T>) new ContactEmailInfoModelAdapter(gson);
+                case "CreateSharedGroupRequest": return (TypeAdapter<T>) new CreateSharedGroupRequestAdapter(gson);
+                case "CreateSharedGroupResult": return (TypeAdapter<T>) new CreateSharedGroupResultAdapter(gson);
+                case "DeleteCharacterFromUserRequest": return (TypeAdapter<T>) new DeleteCharacterFromUserRequestAdapter(gson);
+                case "DeleteCharacterFromUserResult": return (TypeAdapter<T>) new DeleteCharacterFromUserResultAdapter(gson);
+                case "DeletePlayerRequest": return (TypeAdapter<T>) new DeletePlayerRequestAdapter(gson);
+                case "DeletePlayerResult": return (TypeAdapter<T>) new DeletePlayerResultAdapter(gson);
+                case "DeletePushNotificationTemplateRequest": return (TypeAdapter<T>) new DeletePushNotificationTemplateRequestAdapter(gson);
+                case "DeletePushNotificationTemplateResult": return (TypeAdapter<T>) new DeletePushNotificationTemplateResultAdapter(gson);
+                case "DeleteSharedGroupRequest": return (TypeAdapter<T>) new DeleteSharedGroupRequestAdapter(gson);
+                case "DeregisterGameRequest": return (TypeAdapter<T>) new DeregisterGameRequestAdapter(gson);
+                case "DeregisterGameResponse": return (TypeAdapter<T>) new DeregisterGameResponseAdapter(gson);
+                case "EmptyResponse": return (TypeAdapter<T>) new EmptyResponseAdapter(gson);
+                case "EmptyResult": return (TypeAdapter<T>) new EmptyResultAdapter(gson);
+                case "EntityKey": return (TypeAdapter<T>) new EntityKeyAdapter(gson);
+                case "EntityTokenResponse": return (TypeAdapter<T>) new EntityTokenResponseAdapter(gson);
+                case "EvaluateRandomResultTableRequest": return (TypeAdapter<T>) new EvaluateRandomResultTableRequestAdapter(gson);
+                case "EvaluateRandomResultTableResult": return (TypeAdapter<T>) new EvaluateRandomResultTableResultAdapter(gson);
+                case "ExecuteCloudScriptResult": return (TypeAdapter<T>) new ExecuteCloudScriptResultAdapter(gson);
+                case "ExecuteCloudScriptServerRequest": return (TypeAdapter<T>) new ExecuteCloudScriptServerRequestAdapter(gson);
+                case "FacebookInstantGamesPlayFabIdPair": return (TypeAdapter<T>) new FacebookInstantGamesPlayFabIdPairAdapter(gson);
+                case "FacebookPlayFabIdPair": return (TypeAdapter<T>) new FacebookPlayFabIdPairAdapter(gson);
+                case "FriendInfo": return (TypeAdapter<T>) new FriendInfoAdapter(gson);
+                case "GenericPlayFabIdPair": return (TypeAdapter<T>) new GenericPlayFabIdPairAdapter(gson);
+                case "GenericServiceId": return (TypeAdapter<T>) new GenericServiceIdAdapter(gson);
+                case "GetAllSegmentsRequest": return (TypeAdapter<T>) new GetAllSegmentsRequestAdapter(gson);
+                case "GetAllSegmentsResult": return (TypeAdapter<T>) new GetAllSegmentsResultAdapter(gson);
+                case "GetCatalogItemsRequest": return (TypeAdapter<T>) new GetCatalogItemsRequestAdapter(gson);
+                case "GetCatalogItemsResult": return (TypeAdapter<T>) new GetCatalogItemsResultAdapter(gson);
+                case "GetCharacterDataRequest": return (TypeAdapter<T>) new GetCharacterDataRequestAdapter(gson);
+                case "GetCharacterDataResult": return (TypeAdapter<T>) new GetCharacterDataResultAdapter(gson);
+                case "GetCharacterInventoryRequest": return (TypeAdapter<T>) new GetCharacterInventoryRequestAdapter(gson);
+                case "GetCharacterInventoryResult": return (TypeAdapter<T>) new GetCharacterInventoryResultAdapter(gson);
+                case "GetCharacterLeaderboardRequest": return (TypeAdapter<T>) new GetCharacterLeaderboardRequestAdapter(gson);
+                case "GetCharacterLeaderboardResult": return (TypeAdapter<T>) new GetCharacterLeaderboardResultAdapter(gson);
+                case "GetCharacterStatisticsRequest": return (TypeAdapter<T>) new GetCharacterStatisticsRequestAdapter(gson);
+                case "GetCharacterStatisticsResult": return (TypeAdapter<T>) new GetCharacterStatisticsResultAdapter(gson);
+                case "GetContentDownloadUrlRequest": return (TypeAdapter<T>) new GetContentDownloadUrlRequestAdapter(gson);
+                case "GetContentDownloadUrlResult": return (TypeAdapter<T>) new GetContentDownloadUrlResultAdapter(gson);
+                case "GetFriendLeaderboardRequest": return (TypeAdapter<T>) new GetFriendLeaderboardRequestAdapter(gson);
+                case "GetFriendsListRequest": return (TypeAdapter<T>) new GetFriendsListRequestAdapter(gson);
+                case "GetFriendsListResult": return (TypeAdapter<T>) new GetFriendsListResultAdapter(gson);
+                case "GetLeaderboardAroundCharacterRequest": return (TypeAdapter<T>) new GetLeaderboardAroundCharacterRequestAdapter(gson);
+                case "GetLeaderboardAroundCharacterResult": return (TypeAdapter<T>) new GetLeaderboardAroundCharacterResultAdapter(gson);
+                case "GetLeaderboardAroundUserRequest": return (TypeAdapter<T>) new GetLeaderboardAroundUserRequestAdapter(gson);
+                case "GetLeaderboardAroundUserResult": return (TypeAdapter<T>) new GetLeaderboardAroundUserResultAdapter(gson);
+                case "GetLeaderboardForUsersCharactersRequest": return (TypeAdapter<T>) new GetLeaderboardForUsersCharactersRequestAdapter(gson);
+                case "GetLeaderboardForUsersCharactersResult": return (TypeAdapter<T>) new GetLeaderboardForUsersCharactersResultAdapter(gson);
+                case "GetLeaderboardRequest": return (TypeAdapter<T>) new GetLeaderboardRequestAdapter(gson);
+                case "GetLeaderboardResult": return (TypeAdapter<T>) new GetLeaderboardResultAdapter(gson);
+                case "GetPlayerCombinedInfoRequest": return (TypeAdapter<T>) new GetPlayerCombinedInfoRequestAdapter(gson);
+                case "GetPlayerCombinedInfoRequestParams": return (TypeAdapter<T>) new GetPlayerCombinedInfoRequestParamsAdapter(gson);
+                case "GetPlayerCombinedInfoResult": return (TypeAdapter<T>) new GetPlayerCombinedInfoResultAdapter(gson);
+                case "GetPlayerCombinedInfoResultPayload": return (TypeAdapter<T>) new GetPlayerCombinedInfoResultPayloadAdapter(gson);
+                case "GetPlayerProfileRequest": return (TypeAdapter<T>) new GetPlayerProfileRequestAdapter(gson);
+                case "GetPlayerProfileResult": return (TypeAdapter<T>) new GetPlayerProfileResultAdapter(gson);
+                case "GetPlayerSegmentsResult": return (TypeAdapter<T>) new GetPlayerSegmentsResultAdapter(gson);
+                case "GetPlayersInSegmentRequest": return (TypeAdapter<T>) new GetPlayersInSegmentRequestAdapter(gson);
+                case "GetPlayersInSegmentResult": return (TypeAdapter<T>) new GetPlayersInSegmentResultAdapter(gson);
+                case "GetPlayersSegmentsRequest": return (TypeAdapter<T>) new GetPlayersSegmentsRequestAdapter(gson);
+                case "GetPlayerStatisticsRequest": return (TypeAdapter<T>) new GetPlayerStatisticsRequestAdapter(gson);
+                case "GetPlayerStatisticsResult": return (TypeAdapter<T>) new GetPlayerStatisticsResultAdapter(gson);
+                case "GetPlayerStatisticVersionsRequest": return (TypeAdapter<T>) new GetPlayerStatisticVersionsRequestAdapter(gson);
+                case "GetPlayerStatisticVersionsResult": return (TypeAdapter<T>) new GetPlayerStatisticVersionsResultAdapter(gson);
+                case "GetPlayerTagsRequest": return (TypeAdapter<T>) new GetPlayerTagsRequestAdapter(gson);
+                case "GetPlayerTagsResult": return (TypeAdapter<T>) new GetPlayerTagsResultAdapter(gson);
+                case "GetPlayFabIDsFromFacebookIDsRequest": return (TypeAdapter<T>) new GetPlayFabIDsFromFacebookIDsRequestAdapter(gson);
+                case "GetPlayFabIDsFromFacebookIDsResult": return (TypeAdapter<T>) new GetPlayFabIDsFromFacebookIDsResultAdapter(gson);
+                case "GetPlayFabIDsFromFacebookInstantGamesIdsRequest": return (TypeAdapter<T>) new GetPlayFabIDsFromFacebookInstantGamesIdsRequestAdapter(gson);
+                case "GetPlayFabIDsFromFacebookInstantGamesIdsResult": return (TypeAdapter<T>) new GetPlayFabIDsFromFacebookInstantGamesIdsResultAdapter(gson);
+                case "GetPlayFabIDsFromGenericIDsRequest": return (TypeAdapter<T>) new GetPlayFabIDsFromGenericIDsRequestAdapter(gson);
+                case "GetPlayFabIDsFromGenericIDsResult": return (TypeAdapter<T>) new GetPlayFabIDsFromGenericIDsResultAdapter(gson);
+                case "GetPlayFabIDsFromNintendoSwitchDeviceIdsRequest": return (TypeAdapter<T>) new GetPlayFabIDsFromNintendoSwitchDeviceIdsRequestAdapter(gson);
+                case "GetPlayFabIDsFromNintendoSwitchDeviceIdsResult": return (TypeAdapter<T>) new GetPlayFabIDsFromNintendoSwitchDeviceIdsResultAdapter(gson);
+                case "GetPlayFabIDsFromPSNAccountIDsRequest": return (TypeAdapter<T>) new GetPlayFabIDsFromPSNAccountIDsRequestAdapter(gson);
+                case "GetPlayFabIDsFromPSNAccountIDsResult": return (TypeAdapter<T>) new GetPlayFabIDsFromPSNAccountIDsResultAdapter(gson);
+                case "GetPlayFabIDsFromSteamIDsRequest": return (TypeAdapter<T>) new GetPlayFabIDsFromSteamIDsRequestAdapter(gson);
+                case "GetPlayFabIDsFromSteamIDsResult": return (TypeAdapter<T>) new GetPlayFabIDsFromSteamIDsResultAdapter(gson);
+                case "GetPlayFabIDsFromXboxLiveIDsRequest": return (TypeAdapter<T>) new GetPlayFabIDsFromXboxLiveIDsRequestAdapter(gson);
+                case "GetPlayFabIDsFromXboxLiveIDsResult": return (TypeAdapter<T>) new GetPlayFabIDsFromXboxLiveIDsResultAdapter(gson);
+                case "GetPublisherDataRequest": return (TypeAdapter<T>) new GetPublisherDataRequestAdapter(gson);
+                case "GetPublisherDataResult": return (TypeAdapter<T>) new GetPublisherDataResultAdapter(gson);
+                case "GetRandomResultTablesRequest": return (TypeAdapter<T>) new GetRandomResultTablesRequestAdapter(gson);
+                case "GetRandomResultTablesResult": return (TypeAdapter<T>) new GetRandomResultTablesResultAdapter(gson);
+                case "GetSegmentResult": return (TypeAdapter<T>) new GetSegmentResultAdapter(gson);
+                case "GetServerCustomIDsFromPlayFabIDsRequest": return (TypeAdapter<T>) new GetServerCustomIDsFromPlayFabIDsRequestAdapter(gson);
+                case "GetServerCustomIDsFromPlayFabIDsResult": return (TypeAdapter<T>) new GetServerCustomIDsFromPlayFabIDsResultAdapter(gson);
+                case "GetSharedGroupDataRequest": return (TypeAdapter<T>) new GetSharedGroupDataRequestAdapter(gson);
+                case "GetSharedGroupDataResult": return (TypeAdapter<T>) new GetSharedGroupDataResultAdapter(gson);
+                case "GetStoreItemsResult": return (TypeAdapter<T>) new GetStoreItemsResultAdapter(gson);
+                case "GetStoreItemsServerRequest": return (TypeAdapter<T>) new GetStoreItemsServerRequestAdapter(gson);
+                case "GetTimeRequest": return (TypeAdapter<T>) new GetTimeRequestAdapter(gson);
+                case "GetTimeResult": return (TypeAdapter<T>) new GetTimeResultAdapter(gson);
+                case "GetTitleDataRequest": return (TypeAdapter<T>) new GetTitleDataRequestAdapter(gson);
+                case "GetTitleDataResult": return (TypeAdapter<T>) new GetTitleDataResultAdapter(gson);
+                case "GetTitleNewsRequest": return (TypeAdapter<T>) new GetTitleNewsRequestAdapter(gson);
+                case "GetTitleNewsResult": return (TypeAdapter<T>) new GetTitleNewsResultAdapter(gson);
+                case "GetUserAccountInfoRequest": return (TypeAdapter<T>) new GetUserAccountInfoRequestAdapter(gson);
+                case "GetUserAccountInfoResult": return (TypeAdapter<T>) new GetUserAccountInfoResultAdapter(gson);
+                case "GetUserBansRequest": return (TypeAdapter<T>) new GetUserBansRequestAdapter(gson);
+                case "GetUserBansResult": return (TypeAdapter<T>) new GetUserBansResultAdapter(gson);
+                case "GetUserDataRequest": return (TypeAdapter<T>) new GetUserDataRequestAdapter(gson);
+                case "GetUserDataResult": return (TypeAdapter<T>) new GetUserDataResultAdapter(gson);
+                case "GetUserInventoryRequest": return (TypeAdapter<T>) new GetUserInventoryRequestAdapter(gson);
+                case "GetUserInventoryResult": return (TypeAdapter<T>) new GetUserInventoryResultAdapter(gson);
+                case "GrantCharacterToUserRequest": return (TypeAdapter<T>) new GrantCharacterToUserRequestAdapter(gson);
+                case "GrantCharacterToUserResult": return (TypeAdapter<T>) new GrantCharacterToUserResultAdapter(gson);
+                case "GrantedItemInstance": return (TypeAdapter<T>) new GrantedItemInstanceAdapter(gson);
+                case "GrantItemsToCharacterRequest": return (TypeAdapter<T>) new GrantItemsToCharacterRequestAdapter(gson);
+                case "GrantItemsToCharacterResult": return (TypeAdapter<T>) new GrantItemsToCharacterResultAdapter(gson);
+                case "GrantItemsToUserRequest": return (TypeAdapter<T>) new GrantItemsToUserRequestAdapter(gson);
+                case "GrantItemsToUserResult": return (TypeAdapter<T>) new GrantItemsToUserResultAdapter(gson);
+                case "GrantItemsToUsersRequest": return (TypeAdapter<T>) new GrantItemsToUsersRequestAdapter(gson);
+                case "GrantItemsToUsersResult": return (TypeAdapter<T>) new GrantItemsToUsersResultAdapter(gson);
+                case "ItemGrant": return (TypeAdapter<T>) new ItemGrantAdapter(gson);
+                case "ItemInstance": return (TypeAdapter<T>) new ItemInstanceAdapter(gson);
+                case "LinkedPlatformAccountModel": return (TypeAdapter<T>) new LinkedPlatformAccountModelAdapter(gson);
+                case "LinkPSNAccountRequest": return (TypeAdapter<T>) new LinkPSNAccountRequestAdapter(gson);
+                case "LinkPSNAccountResult": return (TypeAdapter<T>) new LinkPSNAccountResultAdapter(gson);
+                case "LinkServerCustomIdRequest": return (TypeAdapter<T>) new LinkServerCustomIdRequestAdapter(gson);
+                case "LinkServerCustomIdResult": return (TypeAdapter<T>) new LinkServerCustomIdResultAdapter(gson);
+                case "LinkXboxAccountRequest": return (TypeAdapter<T>) new LinkXboxAccountRequestAdapter(gson);
+                case "LinkXboxAccountResult": return (TypeAdapter<T>) new LinkXboxAccountResultAdapter(gson);
+                case "ListUsersCharactersRequest": return (TypeAdapter<T>) new ListUsersCharactersRequestAdapter(gson);
+                case "ListUsersCharactersResult": return (TypeAdapter<T>) new ListUsersCharactersResultAdapter(gson);
+                case "LocalizedPushNotificationProperties": return (TypeAdapter<T>) new LocalizedPushNotificationPropertiesAdapter(gson);
+                case "LocationModel": return (TypeAdapter<T>) new LocationModelAdapter(gson);
+                case "LoginWithServerCustomIdRequest": return (TypeAdapter<T>) new LoginWithServerCustomIdRequestAdapter(gson);
+                case "LoginWithSteamIdRequest": return (TypeAdapter<T>) new LoginWithSteamIdRequestAdapter(gson);
+                case "LoginWithXboxIdRequest": return (TypeAdapter<T>) new LoginWithXboxIdRequestAdapter(gson);
+                case "LoginWithXboxRequest": return (TypeAdapter<T>) new LoginWithXboxRequestAdapter(gson);
+                case "LogStatement": return (TypeAdapter<T>) new LogStatementAdapter(gson);
+                case "MembershipModel": return (TypeAdapter<T>) new MembershipModelAdapter(gson);
+                case "ModifyCharacterVirtualCurrencyResult": return (TypeAdapter<T>) new ModifyCharacterVirtualCurrencyResultAdapter(gson);
+                case "ModifyItemUsesRequest": return (TypeAdapter<T>) new ModifyItemUsesRequestAdapter(gson);
+                case "ModifyItemUsesResult": return (TypeAdapter<T>) new ModifyItemUsesResultAdapter(gson);
+                case "ModifyUserVirtualCurrencyResult": return (TypeAdapter<T>) new ModifyUserVirtualCurrencyResultAdapter(gson);
+                case "MoveItemToCharacterFromCharacterRequest": return (TypeAdapter<T>) new MoveItemToCharacterFromCharacterRequestAdapter(gson);
+                case "MoveItemToCharacterFromCharacterResult": return (TypeAdapter<T>) new MoveItemToCharacterFromCharacterResultAdapter(gson);
+                case "MoveItemToCharacterFromUserRequest": return (TypeAdapter<T>) new MoveItemToCharacterFromUserRequestAdapter(gson);
+                case "MoveItemToCharacterFromUserResult": return (TypeAdapter<T>) new MoveItemToCharacterFromUserResultAdapter(gson);
+                case "MoveItemToUserFromCharacterRequest": return (TypeAdapter<T>) new MoveItemToUserFromCharacterRequestAdapter(gson);
+                case "MoveItemToUserFromCharacterResult": return (TypeAdapter<T>) new MoveItemToUserFromCharacterResultAdapter(gson);
+                case "NintendoSwitchPlayFabIdPair": return (TypeAdapter<T>) new NintendoSwitchPlayFabIdPairAdapter(gson);
+                case "NotifyMatchmakerPlayerLeftRequest": return (TypeAdapter<T>) new NotifyMatchmakerPlayerLeftRequestAdapter(gson);
+                case "NotifyMatchmakerPlayerLeftResult": return (TypeAdapter<T>) new NotifyMatchmakerPlayerLeftResultAdapter(gson);
+                case "PlayerLeaderboardEntry": return (TypeAdapter<T>) new PlayerLeaderboardEntryAdapter(gson);
+                case "PlayerLinkedAccount": return (TypeAdapter<T>) new PlayerLinkedAccountAdapter(gson);
+                case "PlayerLocation": return (TypeAdapter<T>) new PlayerLocationAdapter(gson);
+                case "PlayerProfile": return (TypeAdapter<T>) new PlayerProfileAdapter(gson);
+                case "PlayerProfileModel": return (TypeAdapter<T>) new PlayerProfileModelAdapter(gson);
+                case "PlayerProfileViewConstraints": return (TypeAdapter<T>) new PlayerProfileViewConstraintsAdapter(gson);
+                case "PlayerStatistic": return (TypeAdapter<T>) new PlayerStatisticAdapter(gson);
+                case "PlayerStatisticVersion": return (TypeAdapter<T>) new PlayerStatisticVersionAdapter(gson);
+                case "PSNAccountPlayFabIdPair": return (TypeAdapter<T>) new PSNAccountPlayFabIdPairAdapter(gson);
+                case "PushNotificationPackage": return (TypeAdapter<T>) new PushNotificationPackageAdapter(gson);
+                case "PushNotificationRegistration": return (TypeAdapter<T>) new PushNotificationRegistrationAdapter(gson);
+                case "PushNotificationRegistrationModel": return (TypeAdapter<T>) new PushNotificationRegistrationModelAdapter(gson);
+                case "RandomResultTableListing": return (TypeAdapter<T>) new RandomResultTableListingAdapter(gson);
+                case "RedeemCouponRequest": return (TypeAdapter<T>) new RedeemCouponRequestAdapter(gson);
+                case "RedeemCouponResult": return (TypeAdapter<T>) new RedeemCouponResultAdapter(gson);
+                case "RedeemMatchmakerTicketRequest": return (TypeAdapter<T>) new RedeemMatchmakerTicketRequestAdapter(gson);
+                case "RedeemMatchmakerTicketResult": return (TypeAdapter<T>) new RedeemMatchmakerTicketResultAdapter(gson);
+                case "RefreshGameServerInstanceHeartbeatRequest": return (TypeAdapter<T>) new RefreshGameServerInstanceHeartbeatRequestAdapter(gson);
+                case "RefreshGameServerInstanceHeartbeatResult": return (TypeAdapter<T>) new RefreshGameServerInstanceHeartbeatResultAdapter(gson);
+                case "RegisterGameRequest": return (TypeAdapter<T>) new RegisterGameRequestAdapter(gson);
+                case "RegisterGameResponse": return (TypeAdapter<T>) new RegisterGameResponseAdapter(gson);
+                case "RemoveFriendRequest": return (TypeAdapter<T>) new RemoveFriendRequestAdapter(gson);
+                case "RemoveGenericIDRequest": return (TypeAdapter<T>) new RemoveGenericIDRequestAdapter(gson);
+                case "RemovePlayerTagRequest": return (TypeAdapter<T>) new RemovePlayerTagRequestAdapter(gson);
+                case "RemovePlayerTagResult": return (TypeAdapter<T>) new RemovePlayerTagResultAdapter(gson);
+                case "RemoveSharedGroupMembersRequest": return (TypeAdapter<T>) new RemoveSharedGroupMembersRequestAdapter(gson);
+                case "RemoveSharedGroupMembersResult": return (TypeAdapter<T>) new RemoveSharedGroupMembersResultAdapter(gson);
+                case "ReportPlayerServerRequest": return (TypeAdapter<T>) new ReportPlayerServerRequestAdapter(gson);
+                case "ReportPlayerServerResult": return (TypeAdapter<T>) new ReportPlayerServerResultAdapter(gson);
+                case "ResultTableNode": return (TypeAdapter<T>) new ResultTableNodeAdapter(gson);
+                case "RevokeAllBansForUserRequest": return (TypeAdapter<T>) new RevokeAllBansForUserRequestAdapter(gson);
+                case "RevokeAllBansForUserResult": return (TypeAdapter<T>) new RevokeAllBansForUserResultAdapter(gson);
+                case "RevokeBansRequest": return (TypeAdapter<T>) new RevokeBansRequestAdapter(gson);
+                case "RevokeBansResult": return (TypeAdapter<T>) new RevokeBansResultAdapter(gson);
+                case "RevokeInventoryItem": return (TypeAdapter<T>) new RevokeInventoryItemAdapter(gson);
+                case "RevokeInventoryItemRequest": return (TypeAdapter<T>) new RevokeInventoryItemRequestAdapter(gson);
+                case "RevokeInventoryItemsRequest": return (TypeAdapter<T>) new RevokeInventoryItemsRequestAdapter(gson);
+                case "RevokeInventoryItemsResult": return (TypeAdapter<T>) new RevokeInventoryItemsResultAdapter(gson);
+                case "RevokeInventoryResult": return (TypeAdapter<T>) new RevokeInventoryResultAdapter(gson);
+                case "RevokeItemError": return (TypeAdapter<T>) new RevokeItemErrorAdapter(gson);
+                case "SavePushNotificationTemplateRequest": return (TypeAdapter<T>) new SavePushNotificationTemplateRequestAdapter(gson);
+                case "SavePushNotificationTemplateResult": return (TypeAdapter<T>) new SavePushNotificationTemplateResultAdapter(gson);
+                case "ScriptExecutionError": return (TypeAdapter<T>) new ScriptExecutionErrorAdapter(gson);
+                case "SendCustomAccountRecoveryEmailRequest": return (TypeAdapter<T>) new SendCustomAccountRecoveryEmailRequestAdapter(gson);
+                case "SendCustomAccountRecoveryEmailResult": return (TypeAdapter<T>) new SendCustomAccountRecoveryEmailResultAdapter(gson);
+                case "SendEmailFromTemplateRequest": return (TypeAdapter<T>) new SendEmailFromTemplateRequestAdapter(gson);
+                case "SendEmailFromTemplateResult": return (TypeAdapter<T>) new SendEmailFromTemplateResultAdapter(gson);
+                case "SendPushNotificationFromTemplateRequest": return (TypeAdapter<T>) new SendPushNotificationFromTemplateRequestAdapter(gson);
+                case "SendPushNotificationRequest": return (TypeAdapter<T>) new SendPushNotificationRequestAdapter(gson);
+                case "SendPushNotificationResult": return (TypeAdapter<T>) new SendPushNotificationResultAdapter(gson);
+                case "ServerCustomIDPlayFabIDPair": return (TypeAdapter<T>) new ServerCustomIDPlayFabIDPairAdapter(gson);
+                case "ServerLoginResult": return (TypeAdapter<T>) new ServerLoginResultAdapter(gson);
+                case "SetFriendTagsRequest": return (TypeAdapter<T>) new SetFriendTagsRequestAdapter(gson);
+                case "SetGameServerInstanceDataRequest": return (TypeAdapter<T>) new SetGameServerInstanceDataRequestAdapter(gson);
+                case "SetGameServerInstanceDataResult": return (TypeAdapter<T>) new SetGameServerInstanceDataResultAdapter(gson);
+                case "SetGameServerInstanceStateRequest": return (TypeAdapter<T>) new SetGameServerInstanceStateRequestAdapter(gson);
+                case "SetGameServerInstanceStateResult": return (TypeAdapter<T>) new SetGameServerInstanceStateResultAdapter(gson);
+                case "SetGameServerInstanceTagsRequest": return (TypeAdapter<T>) new SetGameServerInstanceTagsRequestAdapter(gson);
+                case "SetGameServerInstanceTagsResult": return (TypeAdapter<T>) new SetGameServerInstanceTagsResultAdapter(gson);
+                case "SetPlayerSecretRequest": return (TypeAdapter<T>) new SetPlayerSecretRequestAdapter(gson);
+                case "SetPlayerSecretResult": return (TypeAdapter<T>) new SetPlayerSecretResultAdapter(gson);
+                case "SetPublisherDataRequest": return (TypeAdapter<T>) new SetPublisherDataRequestAdapter(gson);
+                case "SetPublisherDataResult": return (TypeAdapter<T>) new SetPublisherDataResultAdapter(gson);
+                case "SetTitleDataRequest": return (TypeAdapter<T>) new SetTitleDataRequestAdapter(gson);
+                case "SetTitleDataResult": return (TypeAdapter<T>) new SetTitleDataResultAdapter(gson);
+                case "SharedGroupDataRecord": return (TypeAdapter<T>) new SharedGroupDataRecordAdapter(gson);
+                case "StatisticModel": return (TypeAdapter<T>) new StatisticModelAdapter(gson);
+                case "StatisticNameVersion": return (TypeAdapter<T>) new StatisticNameVersionAdapter(gson);
+                case "StatisticUpdate": return (TypeAdapter<T>) new StatisticUpdateAdapter(gson);
+                case "StatisticValue": return (TypeAdapter<T>) new StatisticValueAdapter(gson);
+                case "SteamPlayFabIdPair": return (TypeAdapter<T>) new SteamPlayFabIdPairAdapter(gson);
+                case "StoreItem": return (TypeAdapter<T>) new StoreItemAdapter(gson);
+                case "StoreMarketingModel": return (TypeAdapter<T>) new StoreMarketingModelAdapter(gson);
+                case "SubscriptionModel": return (TypeAdapter<T>) new SubscriptionModelAdapter(gson);
+                case "SubtractCharacterVirtualCurrencyRequest": return (TypeAdapter<T>) new SubtractCharacterVirtualCurrencyRequestAdapter(gson);
+                case "SubtractUserVirtualCurrencyRequest": return (TypeAdapter<T>) new SubtractUserVirtualCurrencyRequestAdapter(gson);
+                case "TagModel": return (TypeAdapter<T>) new TagModelAdapter(gson);
+                case "TitleNewsItem": return (TypeAdapter<T>) new TitleNewsItemAdapter(gson);
+                case "TreatmentAssignment": return (TypeAdapter<T>) new TreatmentAssignmentAdapter(gson);
+                case "UnlinkPSNAccountRequest": return (TypeAdapter<T>) new UnlinkPSNAccountRequestAdapter(gson);
+                case "UnlinkPSNAccountResult": return (TypeAdapter<T>) new UnlinkPSNAccountResultAdapter(gson);
+                case "UnlinkServerCustomIdRequest": return (TypeAdapter<T>) new UnlinkServerCustomIdRequestAdapter(gson);
+                case "UnlinkServerCustomIdResult": return (TypeAdapter<T>) new UnlinkServerCustomIdResultAdapter(gson);
+                case "UnlinkXboxAccountRequest": return (TypeAdapter<T>) new UnlinkXboxAccountRequestAdapter(gson);
+                case "UnlinkXboxAccountResult": return (TypeAdapter<T>) new UnlinkXboxAccountResultAdapter(gson);
+                case "UnlockContainerInstanceRequest": return (TypeAdapter<T>) new UnlockContainerInstanceRequestAdapter(gson);
+                case "UnlockContainerItemRequest": return (TypeAdapter<T>) new UnlockContainerItemRequestAdapter(gson);
+                case "UnlockContainerItemResult": return (TypeAdapter<T>) new UnlockContainerItemResultAdapter(gson);
+                case "UpdateAvatarUrlRequest": return (TypeAdapter<T>) new UpdateAvatarUrlRequestAdapter(gson);
+                case "UpdateBanRequest": return (TypeAdapter<T>) new UpdateBanRequestAdapter(gson);
+                case "UpdateBansRequest": return (TypeAdapter<T>) new UpdateBansRequestAdapter(gson);
+                case "UpdateBansResult": return (TypeAdapter<T>) new UpdateBansResultAdapter(gson);
+                case "UpdateCharacterDataRequest": return (TypeAdapter<T>) new UpdateCharacterDataRequestAdapter(gson);
+                case "UpdateCharacterDataResult": return (TypeAdapter<T>) new UpdateCharacterDataResultAdapter(gson);
+                case "UpdateCharacterStatisticsRequest": return (TypeAdapter<T>) new UpdateCharacterStatisticsRequestAdapter(gson);
+                case "UpdateCharacterStatisticsResult": return (TypeAdapter<T>) new UpdateCharacterStatisticsResultAdapter(gson);
+                case "UpdatePlayerStatisticsRequest": return (TypeAdapter<T>) new UpdatePlayerStatisticsRequestAdapter(gson);
+                case "UpdatePlayerStatisticsResult": return (TypeAdapter<T>) new UpdatePlayerStatisticsResultAdapter(gson);
+                case "UpdateSharedGroupDataRequest": return (TypeAdapter<T>) new UpdateSharedGroupDataRequestAdapter(gson);
+                case "UpdateSharedGroupDataResult": return (TypeAdapter<T>) new UpdateSharedGroupDataResultAdapter(gson);
+                case "UpdateUserDataRequest": return (TypeAdapter<T>) new UpdateUserDataRequestAdapter(gson);
+                case "UpdateUserDataResult": return (TypeAdapter<T>) new UpdateUserDataResultAdapter(gson);
+                case "UpdateUserInternalDataRequest": return (TypeAdapter<T>) new UpdateUserInternalDataRequestAdapter(gson);
+                case "UpdateUserInventoryItemDataRequest": return (TypeAdapter<T>) new UpdateUserInventoryItemDataRequestAdapter(gson);
+                case "UserAccountInfo": return (TypeAdapter<T>) new UserAccountInfoAdapter(gson);
+                case "UserAndroidDeviceInfo": return (TypeAdapter<T>) new UserAndroidDeviceInfoAdapter(gson);
+                case "UserAppleIdInfo": return (TypeAdapter<T>) new UserAppleIdInfoAdapter(gson);
+                case "UserCustomIdInfo": return (TypeAdapter<T>) new UserCustomIdInfoAdapter(gson);
+                case "UserDataRecord": return (TypeAdapter<T>) new UserDataRecordAdapter(gson);
+                case "UserFacebookInfo": return (TypeAdapter<T>) new UserFacebookInfoAdapter(gson);
+                case "UserFacebookInstantGamesIdInfo": return (TypeAdapter<T>) new UserFacebookInstantGamesIdInfoAdapter(gson);
+                case "UserGameCenterInfo": return (TypeAdapter<T>) new UserGameCenterInfoAdapter(gson);
+                case "UserGoogleInfo": return (TypeAdapter<T>) new UserGoogleInfoAdapter(gson);
+                case "UserIosDeviceInfo": return (TypeAdapter<T>) new UserIosDeviceInfoAdapter(gson);
+                case "UserKongregateInfo": return (TypeAdapter<T>) new UserKongregateInfoAdapter(gson);
+                case "UserNintendoSwitchAccountIdInfo": return (TypeAdapter<T>) new UserNintendoSwitchAccountIdInfoAdapter(gson);
+                case "UserNintendoSwitchDeviceIdInfo": return (TypeAdapter<T>) new UserNintendoSwitchDeviceIdInfoAdapter(gson);
+                case "UserOpenIdInfo": return (TypeAdapter<T>) new UserOpenIdInfoAdapter(gson);
+                case "UserPrivateAccountInfo": return (TypeAdapter<T>) new UserPrivateAccountInfoAdapter(gson);
+                case "UserPsnInfo": return (TypeAdapter<T>) new UserPsnInfoAdapter(gson);
+                case "UserSettings": return (TypeAdapter<T>) new UserSettingsAdapter(gson);
+                case "UserSteamInfo": return (TypeAdapter<T>) new UserSteamInfoAdapter(gson);
+                case "UserTitleInfo": return (TypeAdapter<T>) new UserTitleInfoAdapter(gson);
+                case "UserTwitchInfo": return (TypeAdapter<T>) new UserTwitchInfoAdapter(gson);
+                case "UserXboxInfo": return (TypeAdapter<T>) new UserXboxInfoAdapter(gson);
+                case "ValueToDateModel": return (TypeAdapter<T>) new ValueToDateModelAdapter(gson);
+                case "Variable": return (TypeAdapter<T>) new VariableAdapter(gson);
+                case "VirtualCurrencyRechargeTime": return (TypeAdapter<T>) new VirtualCurrencyRechargeTimeAdapter(gson);
+                case "WriteEventResponse": return (TypeAdapter<T>) new WriteEventResponseAdapter(gson);
+                case "WriteServerCharacterEventRequest": return (TypeAdapter<T>) new WriteServerCharacterEventRequestAdapter(gson);
+                case "WriteServerPlayerEventRequest": return (TypeAdapter<T>) new WriteServerPlayerEventRequestAdapter(gson);
+                case "WriteTitleEventRequest": return (TypeAdapter<T>) new WriteTitleEventRequestAdapter(gson);
+                case "XboxLiveAccountPlayFabIdPair": return (TypeAdapter<T>) new XboxLiveAccountPlayFabIdPairAdapter(gson);
+                default: return null;
+            }
+        }
+    };
+
+    private static class AdCampaignAttributionAdapter extends TypeAdapter<AdCampaignAttribution> {
+        private final TypeAdapter<Date> dateAdapter;
+
+        private AdCampaignAttributionAdapter(Gson gson) {
+            dateAdapter = gson.getAdapter(Date.class);
+        }
+
+        @Override
+        public void write(JsonWriter out, AdCampaignAttribution value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            dateAdapter.write(out.name("AttributedAt"), value.AttributedAt);
+            out.name("CampaignId").value(value.CampaignId);
+            out.name("Platform").value(value.Platform);
+            out.endObject();
+        }
+
+        @Override
+        public AdCampaignAttribution read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            AdCampaignAttribution value = new AdCampaignAttribution();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "AttributedAt": value.AttributedAt = dateAdapter.read(in); break;
+                        case "CampaignId": value.CampaignId = PlayFabJson.readString(in); break;
+                        case "Platform": value.Platform = PlayFabJson.readString(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class AdCampaignAttributionModelAdapter extends TypeAdapter<AdCampaignAttributionModel> {
+        private final TypeAdapter<Date> dateAdapter;
+
+        private AdCampaignAttributionModelAdapter(Gson gson) {
+            dateAdapter = gson.getAdapter(Date.class);
+        }
+
+        @Override
+        public void write(JsonWriter out, AdCampaignAttributionModel value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            dateAdapter.write(out.name("AttributedAt"), value.AttributedAt);
+            out.name("CampaignId").value(value.CampaignId);
+            out.name("Platform").value(value.Platform);
+            out.endObject();
+        }
+
+        @Override
+        public AdCampaignAttributionModel read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            AdCampaignAttributionModel value = new AdCampaignAttributionModel();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "AttributedAt": value.AttributedAt = dateAdapter.read(in); break;
+                        case "CampaignId": value.CampaignId = PlayFabJson.readString(in); break;
+                        case "Platform": value.Platform = PlayFabJson.readString(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class AddCharacterVirtualCurrencyRequestAdapter extends TypeAdapter<AddCharacterVirtualCurrencyRequest> {
+        private final TypeAdapter<String> stringAdapter;
+
+        private AddCharacterVirtualCurrencyRequestAdapter(Gson gson) {
+            stringAdapter = gson.getAdapter(String.class);
+        }
+
+        @Override
+        public void write(JsonWriter out, AddCharacterVirtualCurrencyRequest value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.name("Amount").value(value.Amount);
+            out.name("CharacterId").value(value.CharacterId);
+            PlayFabJson.writeMap(out.name("CustomTags"), value.CustomTags, stringAdapter);
+            out.name("PlayFabId").value(value.PlayFabId);
+            out.name("VirtualCurrency").value(value.VirtualCurrency);
+            out.endObject();
+        }
+
+        @Override
+        public AddCharacterVirtualCurrencyRequest read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            AddCharacterVirtualCurrencyRequest value = new AddCharacterVirtualCurrencyRequest();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "Amount": value.Amount = PlayFabJson.readInteger(in); break;
+                        case "CharacterId": value.CharacterId = PlayFabJson.readString(in); break;
+                        case "CustomTags": value.CustomTags = PlayFabJson.readMap(in, stringAdapter); break;
+                        case "PlayFabId": value.PlayFabId = PlayFabJson.readString(in); break;
+                        case "VirtualCurrency": value.VirtualCurrency = PlayFabJson.readString(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class AddFriendRequestAdapter extends TypeAdapter<AddFriendRequest> {
+        private AddFriendRequestAdapter(Gson gson) {
+        }
+
+        @Override
+        public void write(JsonWriter out, AddFriendRequest value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.name("FriendEmail").value(value.FriendEmail);
+            out.name("FriendPlayFabId").value(value.FriendPlayFabId);
+            out.name("FriendTitleDisplayName").value(value.FriendTitleDisplayName);
+            out.name("FriendUsername").value(value.FriendUsername);
+            out.name("PlayFabId").value(value.PlayFabId);
+            out.endObject();
+        }
+
+        @Override
+        public AddFriendRequest read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            AddFriendRequest value = new AddFriendRequest();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "FriendEmail": value.FriendEmail = PlayFabJson.readString(in); break;
+                        case "FriendPlayFabId": value.FriendPlayFabId = PlayFabJson.readString(in); break;
+                        case "FriendTitleDisplayName": value.FriendTitleDisplayName = PlayFabJson.readString(in); break;
+                        case "FriendUsername": value.FriendUsername = PlayFabJson.readString(in); break;
+                        case "PlayFabId": value.PlayFabId = PlayFabJson.readString(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class AddGenericIDRequestAdapter extends TypeAdapter<AddGenericIDRequest> {
+        private final TypeAdapter<GenericServiceId> genericServiceIdAdapter;
+
+        private AddGenericIDRequestAdapter(Gson gson) {
+            genericServiceIdAdapter = gson.getAdapter(GenericServiceId.class);
+        }
+
+        @Override
+        public void write(JsonWriter out, AddGenericIDRequest value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            genericServiceIdAdapter.write(out.name("GenericId"), value.GenericId);
+            out.name("PlayFabId").value(value.PlayFabId);
+            out.endObject();
+        }
+
+        @Override
+        public AddGenericIDRequest read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            AddGenericIDRequest value = new AddGenericIDRequest();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "GenericId": value.GenericId = genericServiceIdAdapter.read(in); break;
+                        case "PlayFabId": value.PlayFabId = PlayFabJson.readString(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class AddPlayerTagRequestAdapter extends TypeAdapter<AddPlayerTagRequest> {
+        private final TypeAdapter<String> stringAdapter;
+
+        private AddPlayerTagRequestAdapter(Gson gson) {
+            stringAdapter = gson.getAdapter(String.class);
+        }
+
+        @Override
+        public void write(JsonWriter out, AddPlayerTagRequest value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            PlayFabJson.writeMap(out.name("CustomTags"), value.CustomTags, stringAdapter);
+            out.name("PlayFabId").value(value.PlayFabId);
+            out.name("TagName").value(value.TagName);
+            out.endObject();
+        }
+
+        @Override
+        public AddPlayerTagRequest read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            AddPlayerTagRequest value = new AddPlayerTagRequest();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "CustomTags": value.CustomTags = PlayFabJson.readMap(in, stringAdapter); break;
+                        case "PlayFabId": value.PlayFabId = PlayFabJson.readString(in); break;
+                        case "TagName": value.TagName = PlayFabJson.readString(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class AddPlayerTagResultAdapter extends TypeAdapter<AddPlayerTagResult> {
+        private AddPlayerTagResultAdapter(Gson gson) {
+        }
+
+        @Override
+        public void write(JsonWriter out, AddPlayerTagResult value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.endObject();
+        }
+
+        @Override
+        public AddPlayerTagResult read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            AddPlayerTagResult value = new AddPlayerTagResult();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class AddSharedGroupMembersRequestAdapter extends TypeAdapter<AddSharedGroupMembersRequest> {
+        private final TypeAdapter<String> stringAdapter;
+
+        private AddSharedGroupMembersRequestAdapter(Gson gson) {
+            stringAdapter = gson.getAdapter(String.class);
+        }
+
+        @Override
+        public void write(JsonWriter out, AddSharedGroupMembersRequest value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            PlayFabJson.writeList(out.name("PlayFabIds"), value.PlayFabIds, stringAdapter);
+            out.name("SharedGroupId").value(value.SharedGroupId);
+            out.endObject();
+        }
+
+        @Override
+        public AddSharedGroupMembersRequest read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            AddSharedGroupMembersRequest value = new AddSharedGroupMembersRequest();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "PlayFabIds": value.PlayFabIds = PlayFabJson.readList(in, stringAdapter); break;
+                        case "SharedGroupId": value.SharedGroupId = PlayFabJson.readString(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class AddSharedGroupMembersResultAdapter extends TypeAdapter<AddSharedGroupMembersResult> {
+        private AddSharedGroupMembersResultAdapter(Gson gson) {
+        }
+
+        @Override
+        public void write(JsonWriter out, AddSharedGroupMembersResult value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.endObject();
+        }
+
+        @Override
+        public AddSharedGroupMembersResult read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            AddSharedGroupMembersResult value = new AddSharedGroupMembersResult();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class AddUserVirtualCurrencyRequestAdapter extends TypeAdapter<AddUserVirtualCurrencyRequest> {
+        private final TypeAdapter<String> stringAdapter;
+
+        private AddUserVirtualCurrencyRequestAdapter(Gson gson) {
+            stringAdapter = gson.getAdapter(String.class);
+        }
+
+        @Override
+        public void write(JsonWriter out, AddUserVirtualCurrencyRequest value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.name("Amount").value(value.Amount);
+            PlayFabJson.writeMap(out.name("CustomTags"), value.CustomTags, stringAdapter);
+            out.name("PlayFabId").value(value.PlayFabId);
+            out.name("VirtualCurrency").value(value.VirtualCurrency);
+            out.endObject();
+        }
+
+        @Override
+        public AddUserVirtualCurrencyRequest read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            AddUserVirtualCurrencyRequest value = new AddUserVirtualCurrencyRequest();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "Amount": value.Amount = PlayFabJson.readInteger(in); break;
+                        case "CustomTags": value.CustomTags = PlayFabJson.readMap(in, stringAdapter); break;
+                        case "PlayFabId": value.PlayFabId = PlayFabJson.readString(in); break;
+                        case "VirtualCurrency": value.VirtualCurrency = PlayFabJson.readString(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class AdvancedPushPlatformMsgAdapter extends TypeAdapter<AdvancedPushPlatformMsg> {
+        private final TypeAdapter<PushNotificationPlatform> pushNotificationPlatformAdapter;
+
+        private AdvancedPushPlatformMsgAdapter(Gson gson) {
+            pushNotificationPlatformAdapter = gson.getAdapter(PushNotificationPlatform.class);
+        }
+
+        @Override
+        public void write(JsonWriter out, AdvancedPushPlatformMsg value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.name("GCMDataOnly").value(value.GCMDataOnly);
+            out.name("Json").value(value.Json);
+            pushNotificationPlatformAdapter.write(out.name("Platform"), value.Platform);
+            out.endObject();
+        }
+
+        @Override
+        public AdvancedPushPlatformMsg read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            AdvancedPushPlatformMsg value = new AdvancedPushPlatformMsg();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "GCMDataOnly": value.GCMDataOnly = PlayFabJson.readBoolean(in); break;
+                        case "Json": value.Json = PlayFabJson.readString(in); break;
+                        case "Platform": value.Platform = pushNotificationPlatformAdapter.read(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class AuthenticateSessionTicketRequestAdapter extends TypeAdapter<AuthenticateSessionTicketRequest> {
+        private AuthenticateSessionTicketRequestAdapter(Gson gson) {
+        }
+
+        @Override
+        public void write(JsonWriter out, AuthenticateSessionTicketRequest value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.name("SessionTicket").value(value.SessionTicket);
+            out.endObject();
+        }
+
+        @Override
+        public AuthenticateSessionTicketRequest read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            AuthenticateSessionTicketRequest value = new AuthenticateSessionTicketRequest();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "SessionTicket": value.SessionTicket = PlayFabJson.readString(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class AuthenticateSessionTicketResultAdapter extends TypeAdapter<AuthenticateSessionTicketResult> {
+        private final TypeAdapter<UserAccountInfo> userAccountInfoAdapter;
+
+        private AuthenticateSessionTicketResultAdapter(Gson gson) {
+            userAccountInfoAdapter = gson.getAdapter(UserAccountInfo.class);
+        }
+
+        @Override
+        public void write(JsonWriter out, AuthenticateSessionTicketResult value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.name("IsSessionTicketExpired").value(value.IsSessionTicketExpired);
+            userAccountInfoAdapter.write(out.name("UserInfo"), value.UserInfo);
+            out.endObject();
+        }
+
+        @Override
+        public AuthenticateSessionTicketResult read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            AuthenticateSessionTicketResult value = new AuthenticateSessionTicketResult();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "IsSessionTicketExpired": value.IsSessionTicketExpired = PlayFabJson.readBoolean(in); break;
+                        case "UserInfo": value.UserInfo = userAccountInfoAdapter.read(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class AwardSteamAchievementItemAdapter extends TypeAdapter<AwardSteamAchievementItem> {
+        private AwardSteamAchievementItemAdapter(Gson gson) {
+        }
+
+        @Override
+        public void write(JsonWriter out, AwardSteamAchievementItem value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.name("AchievementName").value(value.AchievementName);
+            out.name("PlayFabId").value(value.PlayFabId);
+            out.name("Result").value(value.Result);
+            out.endObject();
+        }
+
+        @Override
+        public AwardSteamAchievementItem read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            AwardSteamAchievementItem value = new AwardSteamAchievementItem();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "AchievementName": value.AchievementName = PlayFabJson.readString(in); break;
+                        case "PlayFabId": value.PlayFabId = PlayFabJson.readString(in); break;
+                        case "Result": value.Result = PlayFabJson.readBoolean(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class AwardSteamAchievementRequestAdapter extends TypeAdapter<AwardSteamAchievementRequest> {
+        private final TypeAdapter<AwardSteamAchievementItem> awardSteamAchievementItemAdapter;
+
+        private AwardSteamAchievementRequestAdapter(Gson gson) {
+            awardSteamAchievementItemAdapter = gson.getAdapter(AwardSteamAchievementItem.class);
+        }
+
+        @Override
+        public void write(JsonWriter out, AwardSteamAchievementRequest value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            PlayFabJson.writeList(out.name("Achievements"), value.Achievements, awardSteamAchievementItemAdapter);
+            out.endObject();
+        }
+
+        @Override
+        public AwardSteamAchievementRequest read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            AwardSteamAchievementRequest value = new AwardSteamAchievementRequest();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "Achievements": value.Achievements = PlayFabJson.readList(in, awardSteamAchievementItemAdapter); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class AwardSteamAchievementResultAdapter extends TypeAdapter<AwardSteamAchievementResult> {
+        private final TypeAdapter<AwardSteamAchievementItem> awardSteamAchievementItemAdapter;
+
+        private AwardSteamAchievementResultAdapter(Gson gson) {
+            awardSteamAchievementItemAdapter = gson.getAdapter(AwardSteamAchievementItem.class);
+        }
+
+        @Override
+        public void write(JsonWriter out, AwardSteamAchievementResult value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            PlayFabJson.writeList(out.name("AchievementResults"), value.AchievementResults, awardSteamAchievementItemAdapter);
+            out.endObject();
+        }
+
+        @Override
+        public AwardSteamAchievementResult read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            AwardSteamAchievementResult value = new AwardSteamAchievementResult();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "AchievementResults": value.AchievementResults = PlayFabJson.readList(in, awardSteamAchievementItemAdapter); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class BanInfoAdapter extends TypeAdapter<BanInfo> {
+        private final TypeAdapter<Date> dateAdapter;
+
+        private BanInfoAdapter(Gson gson) {
+            dateAdapter = gson.getAdapter(Date.class);
+        }
+
+        @Override
+        public void write(JsonWriter out, BanInfo value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.name("Active").value(value.Active);
+            out.name("BanId").value(value.BanId);
+            dateAdapter.write(out.name("Created"), value.Created);
+            dateAdapter.write(out.name("Expires"), value.Expires);
+            out.name("IPAddress").value(value.IPAddress);
+            out.name("MACAddress").value(value.MACAddress);
+            out.name("PlayFabId").value(value.PlayFabId);
+            out.name("Reason").value(value.Reason);
+            out.endObject();
+        }
+
+        @Override
+        public BanInfo read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            BanInfo value = new BanInfo();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "Active": value.Active = PlayFabJson.readBoolean(in); break;
+                        case "BanId": value.BanId = PlayFabJson.readString(in); break;
+                        case "Created": value.Created = dateAdapter.read(in); break;
+                        case "Expires": value.Expires = dateAdapter.read(in); break;
+                        case "IPAddress": value.IPAddress = PlayFabJson.readString(in); break;
+                        case "MACAddress": value.MACAddress = PlayFabJson.readString(in); break;
+                        case "PlayFabId": value.PlayFabId = PlayFabJson.readString(in); break;
+                        case "Reason": value.Reason = PlayFabJson.readString(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class BanRequestAdapter extends TypeAdapter<BanRequest> {
+        private BanRequestAdapter(Gson gson) {
+        }
+
+        @Override
+        public void write(JsonWriter out, BanRequest value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.name("DurationInHours").value(value.DurationInHours);
+            out.name("IPAddress").value(value.IPAddress);
+            out.name("MACAddress").value(value.MACAddress);
+            out.name("PlayFabId").value(value.PlayFabId);
+            out.name("Reason").value(value.Reason);
+            out.endObject();
+        }
+
+        @Override
+        public BanRequest read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            BanRequest value = new BanRequest();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "DurationInHours": value.DurationInHours = PlayFabJson.readLong(in); break;
+                        case "IPAddress": value.IPAddress = PlayFabJson.readString(in); break;
+                        case "MACAddress": value.MACAddress = PlayFabJson.readString(in); break;
+                        case "PlayFabId": value.PlayFabId = PlayFabJson.readString(in); break;
+                        case "Reason": value.Reason = PlayFabJson.readString(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class BanUsersRequestAdapter extends TypeAdapter<BanUsersRequest> {
+        private final TypeAdapter<BanRequest> banRequestAdapter;
+        private final TypeAdapter<String> stringAdapter;
+
+        private BanUsersRequestAdapter(Gson gson) {
+            banRequestAdapter = gson.getAdapter(BanRequest.class);
+            stringAdapter = gson.getAdapter(String.class);
+        }
+
+        @Override
+        public void write(JsonWriter out, BanUsersRequest value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            PlayFabJson.writeList(out.name("Bans"), value.Bans, banRequestAdapter);
+            PlayFabJson.writeMap(out.name("CustomTags"), value.CustomTags, stringAdapter);
+            out.endObject();
+        }
+
+        @Override
+        public BanUsersRequest read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            BanUsersRequest value = new BanUsersRequest();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "Bans": value.Bans = PlayFabJson.readList(in, banRequestAdapter); break;
+                        case "CustomTags": value.CustomTags = PlayFabJson.readMap(in, stringAdapter); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class BanUsersResultAdapter extends TypeAdapter<BanUsersResult> {
+        private final TypeAdapter<BanInfo> banInfoAdapter;
+
+        private BanUsersResultAdapter(Gson gson) {
+            banInfoAdapter = gson.getAdapter(BanInfo.class);
+        }
+
+        @Override
+        public void write(JsonWriter out, BanUsersResult value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            PlayFabJson.writeList(out.name("BanData"), value.BanData, banInfoAdapter);
+            out.endObject();
+        }
+
+        @Override
+        public BanUsersResult read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            BanUsersResult value = new BanUsersResult();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "BanData": value.BanData = PlayFabJson.readList(in, banInfoAdapter); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class CatalogItemAdapter extends TypeAdapter<CatalogItem> {
+        private final TypeAdapter<CatalogItemBundleInfo> catalogItemBundleInfoAdapter;
+        private final TypeAdapter<CatalogItemConsumableInfo> catalogItemConsumableInfoAdapter;
+        private final TypeAdapter<CatalogItemContainerInfo> catalogItemContainerInfoAdapter;
+        private final TypeAdapter<Long> longAdapter;
+        private final TypeAdapter<String> stringAdapter;
+
+        private CatalogItemAdapter(Gson gson) {
+            catalogItemBundleInfoAdapter = gson.getAdapter(CatalogItemBundleInfo.class);
+            catalogItemConsumableInfoAdapter = gson.getAdapter(CatalogItemConsumableInfo.class);
+            catalogItemContainerInfoAdapter = gson.getAdapter(CatalogItemContainerInfo.class);
+            longAdapter = gson.getAdapter(Long.class);
+            stringAdapter = gson.getAdapter(String.class);
+        }
+
+        @Override
+        public void write(JsonWriter out, CatalogItem value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            catalogItemBundleInfoAdapter.write(out.name("Bundle"), value.Bundle);
+            out.name("CanBecomeCharacter").value(value.CanBecomeCharacter);
+            out.name("CatalogVersion").value(value.CatalogVersion);
+            catalogItemConsumableInfoAdapter.write(out.name("Consumable"), value.Consumable);
+            catalogItemContainerInfoAdapter.write(out.name("Container"), value.Container);
+            out.name("CustomData").value(value.CustomData);
+            out.name("Description").value(value.Description);
+            out.name("DisplayName").value(value.DisplayName);
+            out.name("InitialLimitedEditionCount").value(value.InitialLimitedEditionCount);
+            out.name("IsLimitedEdition").value(value.IsLimitedEdition);
+            out.name("IsStackable").value(value.IsStackable);
+            out.name("IsTradable").value(value.IsTradable);
+            out.name("ItemClass").value(value.ItemClass);
+            out.name("ItemId").value(value.ItemId);
+            out.name("ItemImageUrl").value(value.ItemImageUrl);
+            PlayFabJson.writeMap(out.name("RealCurrencyPrices"), value.RealCurrencyPrices, longAdapter);
+            PlayFabJson.writeList(out.name("Tags"), value.Tags, stringAdapter);
+            PlayFabJson.writeMap(out.name("VirtualCurrencyPrices"), value.VirtualCurrencyPrices, longAdapter);
+            out.endObject();
+        }
+
+        @Override
+        public CatalogItem read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            CatalogItem value = new CatalogItem();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "Bundle": value.Bundle = catalogItemBundleInfoAdapter.read(in); break;
+                        case "CanBecomeCharacter": value.CanBecomeCharacter = PlayFabJson.readBoolean(in); break;
+                        case "CatalogVersion": value.CatalogVersion = PlayFabJson.readString(in); break;
+                        case "Consumable": value.Consumable = catalogItemConsumableInfoAdapter.read(in); break;
+                        case "Container": value.Container = catalogItemContainerInfoAdapter.read(in); break;
+                        case "CustomData": value.CustomData = PlayFabJson.readString(in); break;
+                        case "Description": value.Description = PlayFabJson.readString(in); break;
+                        case "DisplayName": value.DisplayName = PlayFabJson.readString(in); break;
+                        case "InitialLimitedEditionCount": value.InitialLimitedEditionCount = PlayFabJson.readInteger(in); break;
+                        case "IsLimitedEdition": value.IsLimitedEdition = PlayFabJson.readBoolean(in); break;
+                        case "IsStackable": value.IsStackable = PlayFabJson.readBoolean(in); break;
+                        case "IsTradable": value.IsTradable = PlayFabJson.readBoolean(in); break;
+                        case "ItemClass": value.ItemClass = PlayFabJson.readString(in); break;
+                        case "ItemId": value.ItemId = PlayFabJson.readString(in); break;
+                        case "ItemImageUrl": value.ItemImageUrl = PlayFabJson.readString(in); break;
+                        case "RealCurrencyPrices": value.RealCurrencyPrices = PlayFabJson.readMap(in, longAdapter); break;
+                        case "Tags": value.Tags = PlayFabJson.readList(in, stringAdapter); break;
+                        case "VirtualCurrencyPrices": value.VirtualCurrencyPrices = PlayFabJson.readMap(in, longAdapter); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class CatalogItemBundleInfoAdapter extends TypeAdapter<CatalogItemBundleInfo> {
+        private final TypeAdapter<String> stringAdapter;
+        private final TypeAdapter<Long> longAdapter;
+
+        private CatalogItemBundleInfoAdapter(Gson gson) {
+            stringAdapter = gson.getAdapter(String.class);
+            longAdapter = gson.getAdapter(Long.class);
+        }
+
+        @Override
+        public void write(JsonWriter out, CatalogItemBundleInfo value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            PlayFabJson.writeList(out.name("BundledItems"), value.BundledItems, stringAdapter);
+            PlayFabJson.writeList(out.name("BundledResultTables"), value.BundledResultTables, stringAdapter);
+            PlayFabJson.writeMap(out.name("BundledVirtualCurrencies"), value.BundledVirtualCurrencies, longAdapter);
+            out.endObject();
+        }
+
+        @Override
+        public CatalogItemBundleInfo read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            CatalogItemBundleInfo value = new CatalogItemBundleInfo();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "BundledItems": value.BundledItems = PlayFabJson.readList(in, stringAdapter); break;
+                        case "BundledResultTables": value.BundledResultTables = PlayFabJson.readList(in, stringAdapter); break;
+                        case "BundledVirtualCurrencies": value.BundledVirtualCurrencies = PlayFabJson.readMap(in, longAdapter); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class CatalogItemConsumableInfoAdapter extends TypeAdapter<CatalogItemConsumableInfo> {
+        private CatalogItemConsumableInfoAdapter(Gson gson) {
+        }
+
+        @Override
+        public void write(JsonWriter out, CatalogItemConsumableInfo value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.name("UsageCount").value(value.UsageCount);
+            out.name("UsagePeriod").value(value.UsagePeriod);
+            out.name("UsagePeriodGroup").value(value.UsagePeriodGroup);
+            out.endObject();
+        }
+
+        @Override
+        public CatalogItemConsumableInfo read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            CatalogItemConsumableInfo value = new CatalogItemConsumableInfo();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "UsageCount": value.UsageCount = PlayFabJson.readLong(in); break;
+                        case "UsagePeriod": value.UsagePeriod = PlayFabJson.readLong(in); break;
+                        case "UsagePeriodGroup": value.UsagePeriodGroup = PlayFabJson.readString(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class CatalogItemContainerInfoAdapter extends TypeAdapter<CatalogItemContainerInfo> {
+        private final TypeAdapter<String> stringAdapter;
+        private final TypeAdapter<Long> longAdapter;
+
+        private CatalogItemContainerInfoAdapter(Gson gson) {
+            stringAdapter = gson.getAdapter(String.class);
+            longAdapter = gson.getAdapter(Long.class);
+        }
+
+        @Override
+        public void write(JsonWriter out, CatalogItemContainerInfo value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            PlayFabJson.writeList(out.name("ItemContents"), value.ItemContents, stringAdapter);
+            out.name("KeyItemId").value(value.KeyItemId);
+            PlayFabJson.writeList(out.name("ResultTableContents"), value.ResultTableContents, stringAdapter);
+            PlayFabJson.writeMap(out.name("VirtualCurrencyContents"), value.VirtualCurrencyContents, longAdapter);
+            out.endObject();
+        }
+
+        @Override
+        public CatalogItemContainerInfo read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            CatalogItemContainerInfo value = new CatalogItemContainerInfo();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "ItemContents": value.ItemContents = PlayFabJson.readList(in, stringAdapter); break;
+                        case "KeyItemId": value.KeyItemId = PlayFabJson.readString(in); break;
+                        case "ResultTableContents": value.ResultTableContents = PlayFabJson.readList(in, stringAdapter); break;
+                        case "VirtualCurrencyContents": value.VirtualCurrencyContents = PlayFabJson.readMap(in, longAdapter); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class CharacterInventoryAdapter extends TypeAdapter<CharacterInventory> {
+        private final TypeAdapter<ItemInstance> itemInstanceAdapter;
+
+        private CharacterInventoryAdapter(Gson gson) {
+            itemInstanceAdapter = gson.getAdapter(ItemInstance.class);
+        }
+
+        @Override
+        public void write(JsonWriter out, CharacterInventory value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.name("CharacterId").value(value.CharacterId);
+            PlayFabJson.writeList(out.name("Inventory"), value.Inventory, itemInstanceAdapter);
+            out.endObject();
+        }
+
+        @Override
+        public CharacterInventory read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            CharacterInventory value = new CharacterInventory();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "CharacterId": value.CharacterId = PlayFabJson.readString(in); break;
+                        case "Inventory": value.Inventory = PlayFabJson.readList(in, itemInstanceAdapter); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class CharacterLeaderboardEntryAdapter extends TypeAdapter<CharacterLeaderboardEntry> {
+        private CharacterLeaderboardEntryAdapter(Gson gson) {
+        }
+
+        @Override
+        public void write(JsonWriter out, CharacterLeaderboardEntry value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.name("CharacterId").value(value.CharacterId);
+            out.name("CharacterName").value(value.CharacterName);
+            out.name("CharacterType").value(value.CharacterType);
+            out.name("DisplayName").value(value.DisplayName);
+            out.name("PlayFabId").value(value.PlayFabId);
+            out.name("Position").value(value.Position);
+            out.name("StatValue").value(value.StatValue);
+            out.endObject();
+        }
+
+        @Override
+        public CharacterLeaderboardEntry read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            CharacterLeaderboardEntry value = new CharacterLeaderboardEntry();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "CharacterId": value.CharacterId = PlayFabJson.readString(in); break;
+                        case "CharacterName": value.CharacterName = PlayFabJson.readString(in); break;
+                        case "CharacterType": value.CharacterType = PlayFabJson.readString(in); break;
+                        case "DisplayName": value.DisplayName = PlayFabJson.readString(in); break;
+                        case "PlayFabId": value.PlayFabId = PlayFabJson.readString(in); break;
+                        case "Position": value.Position = PlayFabJson.readInteger(in); break;
+                        case "StatValue": value.StatValue = PlayFabJson.readInteger(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class CharacterResultAdapter extends TypeAdapter<CharacterResult> {
+        private CharacterResultAdapter(Gson gson) {
+        }
+
+        @Override
+        public void write(JsonWriter out, CharacterResult value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.name("CharacterId").value(value.CharacterId);
+            out.name("CharacterName").value(value.CharacterName);
+            out.name("CharacterType").value(value.CharacterType);
+            out.endObject();
+        }
+
+        @Override
+        public CharacterResult read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            CharacterResult value = new CharacterResult();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "CharacterId": value.CharacterId = PlayFabJson.readString(in); break;
+                        case "CharacterName": value.CharacterName = PlayFabJson.readString(in); break;
+                        case "CharacterType": value.CharacterType = PlayFabJson.readString(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class ConsumeItemRequestAdapter extends TypeAdapter<ConsumeItemRequest> {
+        private final TypeAdapter<String> stringAdapter;
+
+        private ConsumeItemRequestAdapter(Gson gson) {
+            stringAdapter = gson.getAdapter(String.class);
+        }
+
+        @Override
+        public void write(JsonWriter out, ConsumeItemRequest value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.name("CharacterId").value(value.CharacterId);
+            out.name("ConsumeCount").value(value.ConsumeCount);
+            PlayFabJson.writeMap(out.name("CustomTags"), value.CustomTags, stringAdapter);
+            out.name("ItemInstanceId").value(value.ItemInstanceId);
+            out.name("PlayFabId").value(value.PlayFabId);
+            out.endObject();
+        }
+
+        @Override
+        public ConsumeItemRequest read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            ConsumeItemRequest value = new ConsumeItemRequest();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "CharacterId": value.CharacterId = PlayFabJson.readString(in); break;
+                        case "ConsumeCount": value.ConsumeCount = PlayFabJson.readInteger(in); break;
+                        case "CustomTags": value.CustomTags = PlayFabJson.readMap(in, stringAdapter); break;
+                        case "ItemInstanceId": value.ItemInstanceId = PlayFabJson.readString(in); break;
+                        case "PlayFabId": value.PlayFabId = PlayFabJson.readString(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class ConsumeItemResultAdapter extends TypeAdapter<ConsumeItemResult> {
+        private ConsumeItemResultAdapter(Gson gson) {
+        }
+
+        @Override
+        public void write(JsonWriter out, ConsumeItemResult value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.name("ItemInstanceId").value(value.ItemInstanceId);
+            out.name("RemainingUses").value(value.RemainingUses);
+            out.endObject();
+        }
+
+        @Override
+        public ConsumeItemResult read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            ConsumeItemResult value = new ConsumeItemResult();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "ItemInstanceId": value.ItemInstanceId = PlayFabJson.readString(in); break;
+                        case "RemainingUses": value.RemainingUses = PlayFabJson.readInteger(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class ContactEmailInfoAdapter extends TypeAdapter<ContactEmailInfo> {
+        private final TypeAdapter<EmailVerificationStatus> emailVerificationStatusAdapter;
+
+        private ContactEmailInfoAdapter(Gson gson) {
+            emailVerificationStatusAdapter = gson.getAdapter(EmailVerificationStatus.class);
+        }
+
+        @Override
+        public void write(JsonWriter out, ContactEmailInfo value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.name("EmailAddress").value(value.EmailAddress);
+            out.name("Name").value(value.Name);
+            emailVerificationStatusAdapter.write(out.name("VerificationStatus"), value.VerificationStatus);
+            out.endObject();
+        }
+
+        @Override
+        public ContactEmailInfo read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            ContactEmailInfo value = new ContactEmailInfo();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "EmailAddress": value.EmailAddress = PlayFabJson.readString(in); break;
+                        case "Name": value.Name = PlayFabJson.readString(in); break;
+                        case "VerificationStatus": value.VerificationStatus = emailVerificationStatusAdapter.read(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class ContactEmailInfoModelAdapter extends TypeAdapter<ContactEmailInfoModel> {
+        private final TypeAdapter<EmailVerificationStatus> emailVerificationStatusAdapter;
+
+        private ContactEmailInfoModelAdapter(Gson gson) {
+            emailVerificationStatusAdapter = gson.getAdapter(EmailVerificationStatus.class);
+        }
+
+        @Override
+        public void write(JsonWriter out, ContactEmailInfoModel value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.name("EmailAddress").value(value.EmailAddress);
+            out.name("Name").value(value.Name);
+            emailVerificationStatusAdapter.write(out.name("VerificationStatus"), value.VerificationStatus);
+            out.endObject();
+        }
+
+        @Override
+        public ContactEmailInfoModel read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            ContactEmailInfoModel value = new ContactEmailInfoModel();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "EmailAddress": value.EmailAddress = PlayFabJson.readString(in); break;
+                        case "Name": value.Name = PlayFabJson.readString(in); break;
+                        case "VerificationStatus": value.VerificationStatus = emailVerificationStatusAdapter.read(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class CreateSharedGroupRequestAdapter extends TypeAdapter<CreateSharedGroupRequest> {
+        private CreateSharedGroupRequestAdapter(Gson gson) {
+        }
+
+        @Override
+        public void write(JsonWriter out, CreateSharedGroupRequest value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.name("SharedGroupId").value(value.SharedGroupId);
+            out.endObject();
+        }
+
+        @Override
+        public CreateSharedGroupRequest read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            CreateSharedGroupRequest value = new CreateSharedGroupRequest();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "SharedGroupId": value.SharedGroupId = PlayFabJson.readString(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class CreateSharedGroupResultAdapter extends TypeAdapter<CreateSharedGroupResult> {
+        private CreateSharedGroupResultAdapter(Gson gson) {
+        }
+
+        @Override
+        public void write(JsonWriter out, CreateSharedGroupResult value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.name("SharedGroupId").value(value.SharedGroupId);
+            out.endObject();
+        }
+
+        @Override
+        public CreateSharedGroupResult read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            CreateSharedGroupResult value = new CreateSharedGroupResult();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "SharedGroupId": value.SharedGroupId = PlayFabJson.readString(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class DeleteCharacterFromUserRequestAdapter extends TypeAdapter<DeleteCharacterFromUserRequest> {
+        private final TypeAdapter<String> stringAdapter;
+
+        private DeleteCharacterFromUserRequestAdapter(Gson gson) {
+            stringAdapter = gson.getAdapter(String.class);
+        }
+
+        @Override
+        public void write(JsonWriter out, DeleteCharacterFromUserRequest value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.name("CharacterId").value(value.CharacterId);
+            PlayFabJson.writeMap(out.name("CustomTags"), value.CustomTags, stringAdapter);
+            out.name("PlayFabId").value(value.PlayFabId);
+            out.name("SaveCharacterInventory").value(value.SaveCharacterInventory);
+            out.endObject();
+        }
+
+        @Override
+        public DeleteCharacterFromUserRequest read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            DeleteCharacterFromUserRequest value = new DeleteCharacterFromUserRequest();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "CharacterId": value.CharacterId = PlayFabJson.readString(in); break;
+                        case "CustomTags": value.CustomTags = PlayFabJson.readMap(in, stringAdapter); break;
+                        case "PlayFabId": value.PlayFabId = PlayFabJson.readString(in); break;
+                        case "SaveCharacterInventory": value.SaveCharacterInventory = PlayFabJson.readBoolean(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class DeleteCharacterFromUserResultAdapter extends TypeAdapter<DeleteCharacterFromUserResult> {
+        private DeleteCharacterFromUserResultAdapter(Gson gson) {
+        }
+
+        @Override
+        public void write(JsonWriter out, DeleteCharacterFromUserResult value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.endObject();
+        }
+
+        @Override
+        public DeleteCharacterFromUserResult read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            DeleteCharacterFromUserResult value = new DeleteCharacterFromUserResult();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class DeletePlayerRequestAdapter extends TypeAdapter<DeletePlayerRequest> {
+        private DeletePlayerRequestAdapter(Gson gson) {
+        }
+
+        @Override
+        public void write(JsonWriter out, DeletePlayerRequest value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.name("PlayFabId").value(value.PlayFabId);
+            out.endObject();
+        }
+
+        @Override
+        public DeletePlayerRequest read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            DeletePlayerRequest value = new DeletePlayerRequest();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "PlayFabId": value.PlayFabId = PlayFabJson.readString(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class DeletePlayerResultAdapter extends TypeAdapter<DeletePlayerResult> {
+        private DeletePlayerResultAdapter(Gson gson) {
+        }
+
+        @Override
+        public void write(JsonWriter out, DeletePlayerResult value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.endObject();
+        }
+
+        @Override
+        public DeletePlayerResult read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            DeletePlayerResult value = new DeletePlayerResult();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class DeletePushNotificationTemplateRequestAdapter extends TypeAdapter<DeletePushNotificationTemplateRequest> {
+        private DeletePushNotificationTemplateRequestAdapter(Gson gson) {
+        }
+
+        @Override
+        public void write(JsonWriter out, DeletePushNotificationTemplateRequest value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.name("PushNotificationTemplateId").value(value.PushNotificationTemplateId);
+            out.endObject();
+        }
+
+        @Override
+        public DeletePushNotificationTemplateRequest read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            DeletePushNotificationTemplateRequest value = new DeletePushNotificationTemplateRequest();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "PushNotificationTemplateId": value.PushNotificationTemplateId = PlayFabJson.readString(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class DeletePushNotificationTemplateResultAdapter extends TypeAdapter<DeletePushNotificationTemplateResult> {
+        private DeletePushNotificationTemplateResultAdapter(Gson gson) {
+        }
+
+        @Override
+        public void write(JsonWriter out, DeletePushNotificationTemplateResult value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.endObject();
+        }
+
+        @Override
+        public DeletePushNotificationTemplateResult read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            DeletePushNotificationTemplateResult value = new DeletePushNotificationTemplateResult();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class DeleteSharedGroupRequestAdapter extends TypeAdapter<DeleteSharedGroupRequest> {
+        private DeleteSharedGroupRequestAdapter(Gson gson) {
+        }
+
+        @Override
+        public void write(JsonWriter out, DeleteSharedGroupRequest value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.name("SharedGroupId").value(value.SharedGroupId);
+            out.endObject();
+        }
+
+        @Override
+        public DeleteSharedGroupRequest read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            DeleteSharedGroupRequest value = new DeleteSharedGroupRequest();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "SharedGroupId": value.SharedGroupId = PlayFabJson.readString(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class DeregisterGameRequestAdapter extends TypeAdapter<DeregisterGameRequest> {
+        private final TypeAdapter<String> stringAdapter;
+
+        private DeregisterGameRequestAdapter(Gson gson) {
+            stringAdapter = gson.getAdapter(String.class);
+        }
+
+        @Override
+        public void write(JsonWriter out, DeregisterGameRequest value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            PlayFabJson.writeMap(out.name("CustomTags"), value.CustomTags, stringAdapter);
+            out.name("LobbyId").value(value.LobbyId);
+            out.endObject();
+        }
+
+        @Override
+        public DeregisterGameRequest read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            DeregisterGameRequest value = new DeregisterGameRequest();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "CustomTags": value.CustomTags = PlayFabJson.readMap(in, stringAdapter); break;
+                        case "LobbyId": value.LobbyId = PlayFabJson.readString(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class DeregisterGameResponseAdapter extends TypeAdapter<DeregisterGameResponse> {
+        private DeregisterGameResponseAdapter(Gson gson) {
+        }
+
+        @Override
+        public void write(JsonWriter out, DeregisterGameResponse value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.endObject();
+        }
+
+        @Override
+        public DeregisterGameResponse read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            DeregisterGameResponse value = new DeregisterGameResponse();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class EmptyResponseAdapter extends TypeAdapter<EmptyResponse> {
+        private EmptyResponseAdapter(Gson gson) {
+        }
+
+        @Override
+        public void write(JsonWriter out, EmptyResponse value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.endObject();
+        }
+
+        @Override
+        public EmptyResponse read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            EmptyResponse value = new EmptyResponse();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class EmptyResultAdapter extends TypeAdapter<EmptyResult> {
+        private EmptyResultAdapter(Gson gson) {
+        }
+
+        @Override
+        public void write(JsonWriter out, EmptyResult value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.endObject();
+        }
+
+        @Override
+        public EmptyResult read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            EmptyResult value = new EmptyResult();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class EntityKeyAdapter extends TypeAdapter<EntityKey> {
+        private EntityKeyAdapter(Gson gson) {
+        }
+
+        @Override
+        public void write(JsonWriter out, EntityKey value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.name("Id").value(value.Id);
+            out.name("Type").value(value.Type);
+            out.endObject();
+        }
+
+        @Override
+        public EntityKey read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            EntityKey value = new EntityKey();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "Id": value.Id = PlayFabJson.readString(in); break;
+                        case "Type": value.Type = PlayFabJson.readString(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class EntityTokenResponseAdapter extends TypeAdapter<EntityTokenResponse> {
+        private final TypeAdapter<EntityKey> entityKeyAdapter;
+        private final TypeAdapter<Date> dateAdapter;
+
+        private EntityTokenResponseAdapter(Gson gson) {
+            entityKeyAdapter = gson.getAdapter(EntityKey.class);
+            dateAdapter = gson.getAdapter(Date.class);
+        }
+
+        @Override
+        public void write(JsonWriter out, EntityTokenResponse value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            entityKeyAdapter.write(out.name("Entity"), value.Entity);
+            out.name("EntityToken").value(value.EntityToken);
+            dateAdapter.write(out.name("TokenExpiration"), value.TokenExpiration);
+            out.endObject();
+        }
+
+        @Override
+        public EntityTokenResponse read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            EntityTokenResponse value = new EntityTokenResponse();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "Entity": value.Entity = entityKeyAdapter.read(in); break;
+                        case "EntityToken": value.EntityToken = PlayFabJson.readString(in); break;
+                        case "TokenExpiration": value.TokenExpiration = dateAdapter.read(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class EvaluateRandomResultTableRequestAdapter extends TypeAdapter<EvaluateRandomResultTableRequest> {
+        private EvaluateRandomResultTableRequestAdapter(Gson gson) {
+        }
+
+        @Override
+        public void write(JsonWriter out, EvaluateRandomResultTableRequest value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.name("CatalogVersion").value(value.CatalogVersion);
+            out.name("TableId").value(value.TableId);
+            out.endObject();
+        }
+
+        @Override
+        public EvaluateRandomResultTableRequest read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            EvaluateRandomResultTableRequest value = new EvaluateRandomResultTableRequest();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "CatalogVersion": value.CatalogVersion = PlayFabJson.readString(in); break;
+                        case "TableId": value.TableId = PlayFabJson.readString(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class EvaluateRandomResultTableResultAdapter extends TypeAdapter<EvaluateRandomResultTableResult> {
+        private EvaluateRandomResultTableResultAdapter(Gson gson) {
+        }
+
+        @Override
+        public void write(JsonWriter out, EvaluateRandomResultTableResult value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.name("ResultItemId").value(value.ResultItemId);
+            out.endObject();
+        }
+
+        @Override
+        public EvaluateRandomResultTableResult read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            EvaluateRandomResultTableResult value = new EvaluateRandomResultTableResult();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "ResultItemId": value.ResultItemId = PlayFabJson.readString(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class ExecuteCloudScriptResultAdapter extends TypeAdapter<ExecuteCloudScriptResult> {
+        private final TypeAdapter<ScriptExecutionError> scriptExecutionErrorAdapter;
+        private final TypeAdapter<Double> doubleAdapter;
+        private final TypeAdapter<Object> objectAdapter;
+        private final TypeAdapter<LogStatement> logStatementAdapter;
+
+        private ExecuteCloudScriptResultAdapter(Gson gson) {
+            scriptExecutionErrorAdapter = gson.getAdapter(ScriptExecutionError.class);
+            doubleAdapter = gson.getAdapter(Double.class);
+            objectAdapter = gson.getAdapter(Object.class);
+            logStatementAdapter = gson.getAdapter(LogStatement.class);
+        }
+
+        @Override
+        public void write(JsonWriter out, ExecuteCloudScriptResult value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.name("APIRequestsIssued").value(value.APIRequestsIssued);
+            scriptExecutionErrorAdapter.write(out.name("Error"), value.Error);
+            doubleAdapter.write(out.name("ExecutionTimeSeconds"), value.ExecutionTimeSeconds);
+            out.name("FunctionName").value(value.FunctionName);
+            objectAdapter.write(out.name("FunctionResult"), value.FunctionResult);
+            out.name("FunctionResultTooLarge").value(value.FunctionResultTooLarge);
+            out.name("HttpRequestsIssued").value(value.HttpRequestsIssued);
+            PlayFabJson.writeList(out.name("Logs"), value.Logs, logStatementAdapter);
+            out.name("LogsTooLarge").value(value.LogsTooLarge);
+            out.name("MemoryConsumedBytes").value(value.MemoryConsumedBytes);
+            doubleAdapter.write(out.name("ProcessorTimeSeconds"), value.ProcessorTimeSeconds);
+            out.name("Revision").value(value.Revision);
+            out.endObject();
+        }
+
+        @Override
+        public ExecuteCloudScriptResult read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            ExecuteCloudScriptResult value = new ExecuteCloudScriptResult();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "APIRequestsIssued": value.APIRequestsIssued = PlayFabJson.readInteger(in); break;
+                        case "Error": value.Error = scriptExecutionErrorAdapter.read(in); break;
+                        case "ExecutionTimeSeconds": value.ExecutionTimeSeconds = doubleAdapter.read(in); break;
+                        case "FunctionName": value.FunctionName = PlayFabJson.readString(in); break;
+                        case "FunctionResult": value.FunctionResult = objectAdapter.read(in); break;
+                        case "FunctionResultTooLarge": value.FunctionResultTooLarge = PlayFabJson.readBoolean(in); break;
+                        case "HttpRequestsIssued": value.HttpRequestsIssued = PlayFabJson.readInteger(in); break;
+                        case "Logs": value.Logs = PlayFabJson.readList(in, logStatementAdapter); break;
+                        case "LogsTooLarge": value.LogsTooLarge = PlayFabJson.readBoolean(in); break;
+                        case "MemoryConsumedBytes": value.MemoryConsumedBytes = PlayFabJson.readLong(in); break;
+                        case "ProcessorTimeSeconds": value.ProcessorTimeSeconds = doubleAdapter.read(in); break;
+                        case "Revision": value.Revision = PlayFabJson.readInteger(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class ExecuteCloudScriptServerRequestAdapter extends TypeAdapter<ExecuteCloudScriptServerRequest> {
+        private final TypeAdapter<String> stringAdapter;
+        private final TypeAdapter<Object> objectAdapter;
+        private final TypeAdapter<CloudScriptRevisionOption> cloudScriptRevisionOptionAdapter;
+
+        private ExecuteCloudScriptServerRequestAdapter(Gson gson) {
+            stringAdapter = gson.getAdapter(String.class);
+            objectAdapter = gson.getAdapter(Object.class);
+            cloudScriptRevisionOptionAdapter = gson.getAdapter(CloudScriptRevisionOption.class);
+        }
+
+        @Override
+        public void write(JsonWriter out, ExecuteCloudScriptServerRequest value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            PlayFabJson.writeMap(out.name("CustomTags"), value.CustomTags, stringAdapter);
+            out.name("FunctionName").value(value.FunctionName);
+            objectAdapter.write(out.name("FunctionParameter"), value.FunctionParameter);
+            out.name("GeneratePlayStreamEvent").value(value.GeneratePlayStreamEvent);
+            out.name("PlayFabId").value(value.PlayFabId);
+            cloudScriptRevisionOptionAdapter.write(out.name("RevisionSelection"), value.RevisionSelection);
+            out.name("SpecificRevision").value(value.SpecificRevision);
+            out.endObject();
+        }
+
+        @Override
+        public ExecuteCloudScriptServerRequest read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            ExecuteCloudScriptServerRequest value = new ExecuteCloudScriptServerRequest();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "CustomTags": value.CustomTags = PlayFabJson.readMap(in, stringAdapter); break;
+                        case "FunctionName": value.FunctionName = PlayFabJson.readString(in); break;
+                        case "FunctionParameter": value.FunctionParameter = objectAdapter.read(in); break;
+                        case "GeneratePlayStreamEvent": value.GeneratePlayStreamEvent = PlayFabJson.readBoolean(in); break;
+                        case "PlayFabId": value.PlayFabId = PlayFabJson.readString(in); break;
+                        case "RevisionSelection": value.RevisionSelection = cloudScriptRevisionOptionAdapter.read(in); break;
+                        case "SpecificRevision": value.SpecificRevision = PlayFabJson.readInteger(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class FacebookInstantGamesPlayFabIdPairAdapter extends TypeAdapter<FacebookInstantGamesPlayFabIdPair> {
+        private FacebookInstantGamesPlayFabIdPairAdapter(Gson gson) {
+        }
+
+        @Override
+        public void write(JsonWriter out, FacebookInstantGamesPlayFabIdPair value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.name("FacebookInstantGamesId").value(value.FacebookInstantGamesId);
+            out.name("PlayFabId").value(value.PlayFabId);
+            out.endObject();
+        }
+
+        @Override
+        public FacebookInstantGamesPlayFabIdPair read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            FacebookInstantGamesPlayFabIdPair value = new FacebookInstantGamesPlayFabIdPair();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "FacebookInstantGamesId": value.FacebookInstantGamesId = PlayFabJson.readString(in); break;
+                        case "PlayFabId": value.PlayFabId = PlayFabJson.readString(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class FacebookPlayFabIdPairAdapter extends TypeAdapter<FacebookPlayFabIdPair> {
+        private FacebookPlayFabIdPairAdapter(Gson gson) {
+        }
+
+        @Override
+        public void write(JsonWriter out, FacebookPlayFabIdPair value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.name("FacebookId").value(value.FacebookId);
+            out.name("PlayFabId").value(value.PlayFabId);
+            out.endObject();
+        }
+
+        @Override
+        public FacebookPlayFabIdPair read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            FacebookPlayFabIdPair value = new FacebookPlayFabIdPair();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "FacebookId": value.FacebookId = PlayFabJson.readString(in); break;
+                        case "PlayFabId": value.PlayFabId = PlayFabJson.readString(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class FriendInfoAdapter extends TypeAdapter<FriendInfo> {
+        private final TypeAdapter<UserFacebookInfo> userFacebookInfoAdapter;
+        private final TypeAdapter<UserGameCenterInfo> userGameCenterInfoAdapter;
+        private final TypeAdapter<PlayerProfileModel> playerProfileModelAdapter;
+        private final TypeAdapter<UserPsnInfo> userPsnInfoAdapter;
+        private final TypeAdapter<UserSteamInfo> userSteamInfoAdapter;
+        private final TypeAdapter<String> stringAdapter;
+        private final TypeAdapter<UserXboxInfo> userXboxInfoAdapter;
+
+        private FriendInfoAdapter(Gson gson) {
+            userFacebookInfoAdapter = gson.getAdapter(UserFacebookInfo.class);
+            userGameCenterInfoAdapter = gson.getAdapter(UserGameCenterInfo.class);
+            playerProfileModelAdapter = gson.getAdapter(PlayerProfileModel.class);
+            userPsnInfoAdapter = gson.getAdapter(UserPsnInfo.class);
+            userSteamInfoAdapter = gson.getAdapter(UserSteamInfo.class);
+            stringAdapter = gson.getAdapter(String.class);
+            userXboxInfoAdapter = gson.getAdapter(UserXboxInfo.class);
+        }
+
+        @Override
+        public void write(JsonWriter out, FriendInfo value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            userFacebookInfoAdapter.write(out.name("FacebookInfo"), value.FacebookInfo);
+            out.name("FriendPlayFabId").value(value.FriendPlayFabId);
+            userGameCenterInfoAdapter.write(out.name("GameCenterInfo"), value.GameCenterInfo);
+            playerProfileModelAdapter.write(out.name("Profile"), value.Profile);
+            userPsnInfoAdapter.write(out.name("PSNInfo"), value.PSNInfo);
+            userSteamInfoAdapter.write(out.name("SteamInfo"), value.SteamInfo);
+            PlayFabJson.writeList(out.name("Tags"), value.Tags, stringAdapter);
+            out.name("TitleDisplayName").value(value.TitleDisplayName);
+            out.name("Username").value(value.Username);
+            userXboxInfoAdapter.write(out.name("XboxInfo"), value.XboxInfo);
+            out.endObject();
+        }
+
+        @Override
+        public FriendInfo read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            FriendInfo value = new FriendInfo();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "FacebookInfo": value.FacebookInfo = userFacebookInfoAdapter.read(in); break;
+                        case "FriendPlayFabId": value.FriendPlayFabId = PlayFabJson.readString(in); break;
+                        case "GameCenterInfo": value.GameCenterInfo = userGameCenterInfoAdapter.read(in); break;
+                        case "Profile": value.Profile = playerProfileModelAdapter.read(in); break;
+                        case "PSNInfo": value.PSNInfo = userPsnInfoAdapter.read(in); break;
+                        case "SteamInfo": value.SteamInfo = userSteamInfoAdapter.read(in); break;
+                        case "Tags": value.Tags = PlayFabJson.readList(in, stringAdapter); break;
+                        case "TitleDisplayName": value.TitleDisplayName = PlayFabJson.readString(in); break;
+                        case "Username": value.Username = PlayFabJson.readString(in); break;
+                        case "XboxInfo": value.XboxInfo = userXboxInfoAdapter.read(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class GenericPlayFabIdPairAdapter extends TypeAdapter<GenericPlayFabIdPair> {
+        private final TypeAdapter<GenericServiceId> genericServiceIdAdapter;
+
+        private GenericPlayFabIdPairAdapter(Gson gson) {
+            genericServiceIdAdapter = gson.getAdapter(GenericServiceId.class);
+        }
+
+        @Override
+        public void write(JsonWriter out, GenericPlayFabIdPair value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            genericServiceIdAdapter.write(out.name("GenericId"), value.GenericId);
+            out.name("PlayFabId").value(value.PlayFabId);
+            out.endObject();
+        }
+
+        @Override
+        public GenericPlayFabIdPair read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            GenericPlayFabIdPair value = new GenericPlayFabIdPair();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "GenericId": value.GenericId = genericServiceIdAdapter.read(in); break;
+                        case "PlayFabId": value.PlayFabId = PlayFabJson.readString(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class GenericServiceIdAdapter extends TypeAdapter<GenericServiceId> {
+        private GenericServiceIdAdapter(Gson gson) {
+        }
+
+        @Override
+        public void write(JsonWriter out, GenericServiceId value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.name("ServiceName").value(value.ServiceName);
+            out.name("UserId").value(value.UserId);
+            out.endObject();
+        }
+
+        @Override
+        public GenericServiceId read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            GenericServiceId value = new GenericServiceId();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "ServiceName": value.ServiceName = PlayFabJson.readString(in); break;
+                        case "UserId": value.UserId = PlayFabJson.readString(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class GetAllSegmentsRequestAdapter extends TypeAdapter<GetAllSegmentsRequest> {
+        private GetAllSegmentsRequestAdapter(Gson gson) {
+        }
+
+        @Override
+        public void write(JsonWriter out, GetAllSegmentsRequest value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.endObject();
+        }
+
+        @Override
+        public GetAllSegmentsRequest read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            GetAllSegmentsRequest value = new GetAllSegmentsRequest();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class GetAllSegmentsResultAdapter extends TypeAdapter<GetAllSegmentsResult> {
+        private final TypeAdapter<GetSegmentResult> getSegmentResultAdapter;
+
+        private GetAllSegmentsResultAdapter(Gson gson) {
+            getSegmentResultAdapter = gson.getAdapter(GetSegmentResult.class);
+        }
+
+        @Override
+        public void write(JsonWriter out, GetAllSegmentsResult value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            PlayFabJson.writeList(out.name("Segments"), value.Segments, getSegmentResultAdapter);
+            out.endObject();
+        }
+
+        @Override
+        public GetAllSegmentsResult read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            GetAllSegmentsResult value = new GetAllSegmentsResult();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "Segments": value.Segments = PlayFabJson.readList(in, getSegmentResultAdapter); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class GetCatalogItemsRequestAdapter extends TypeAdapter<GetCatalogItemsRequest> {
+        private GetCatalogItemsRequestAdapter(Gson gson) {
+        }
+
+        @Override
+        public void write(JsonWriter out, GetCatalogItemsRequest value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.name("CatalogVersion").value(value.CatalogVersion);
+            out.endObject();
+        }
+
+        @Override
+        public GetCatalogItemsRequest read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            GetCatalogItemsRequest value = new GetCatalogItemsRequest();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "CatalogVersion": value.CatalogVersion = PlayFabJson.readString(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class GetCatalogItemsResultAdapter extends TypeAdapter<GetCatalogItemsResult> {
+        private final TypeAdapter<CatalogItem> catalogItemAdapter;
+
+        private GetCatalogItemsResultAdapter(Gson gson) {
+            catalogItemAdapter = gson.getAdapter(CatalogItem.class);
+        }
+
+        @Override
+        public void write(JsonWriter out, GetCatalogItemsResult value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            PlayFabJson.writeList(out.name("Catalog"), value.Catalog, catalogItemAdapter);
+            out.endObject();
+        }
+
+        @Override
+        public GetCatalogItemsResult read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            GetCatalogItemsResult value = new GetCatalogItemsResult();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "Catalog": value.Catalog = PlayFabJson.readList(in, catalogItemAdapter); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class GetCharacterDataRequestAdapter extends TypeAdapter<GetCharacterDataRequest> {
+        private final TypeAdapter<String> stringAdapter;
+
+        private GetCharacterDataRequestAdapter(Gson gson) {
+            stringAdapter = gson.getAdapter(String.class);
+        }
+
+        @Override
+        public void write(JsonWriter out, GetCharacterDataRequest value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.name("CharacterId").value(value.CharacterId);
+            out.name("IfChangedFromDataVersion").value(value.IfChangedFromDataVersion);
+            PlayFabJson.writeList(out.name("Keys"), value.Keys, stringAdapter);
+            out.name("PlayFabId").value(value.PlayFabId);
+            out.endObject();
+        }
+
+        @Override
+        public GetCharacterDataRequest read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            GetCharacterDataRequest value = new GetCharacterDataRequest();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "CharacterId": value.CharacterId = PlayFabJson.readString(in); break;
+                        case "IfChangedFromDataVersion": value.IfChangedFromDataVersion = PlayFabJson.readLong(in); break;
+                        case "Keys": value.Keys = PlayFabJson.readList(in, stringAdapter); break;
+                        case "PlayFabId": value.PlayFabId = PlayFabJson.readString(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class GetCharacterDataResultAdapter extends TypeAdapter<GetCharacterDataResult> {
+        private final TypeAdapter<UserDataRecord> userDataRecordAdapter;
+
+        private GetCharacterDataResultAdapter(Gson gson) {
+            userDataRecordAdapter = gson.getAdapter(UserDataRecord.class);
+        }
+
+        @Override
+        public void write(JsonWriter out, GetCharacterDataResult value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.name("CharacterId").value(value.CharacterId);
+            PlayFabJson.writeMap(out.name("Data"), value.Data, userDataRecordAdapter);
+            out.name("DataVersion").value(value.DataVersion);
+            out.name("PlayFabId").value(value.PlayFabId);
+            out.endObject();
+        }
+
+        @Override
+        public GetCharacterDataResult read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            GetCharacterDataResult value = new GetCharacterDataResult();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "CharacterId": value.CharacterId = PlayFabJson.readString(in); break;
+                        case "Data": value.Data = PlayFabJson.readMap(in, userDataRecordAdapter); break;
+                        case "DataVersion": value.DataVersion = PlayFabJson.readLong(in); break;
+                        case "PlayFabId": value.PlayFabId = PlayFabJson.readString(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class GetCharacterInventoryRequestAdapter extends TypeAdapter<GetCharacterInventoryRequest> {
+        private final TypeAdapter<String> stringAdapter;
+
+        private GetCharacterInventoryRequestAdapter(Gson gson) {
+            stringAdapter = gson.getAdapter(String.class);
+        }
+
+        @Override
+        public void write(JsonWriter out, GetCharacterInventoryRequest value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.name("CatalogVersion").value(value.CatalogVersion);
+            out.name("CharacterId").value(value.CharacterId);
+            PlayFabJson.writeMap(out.name("CustomTags"), value.CustomTags, stringAdapter);
+            out.name("PlayFabId").value(value.PlayFabId);
+            out.endObject();
+        }
+
+        @Override
+        public GetCharacterInventoryRequest read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            GetCharacterInventoryRequest value = new GetCharacterInventoryRequest();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "CatalogVersion": value.CatalogVersion = PlayFabJson.readString(in); break;
+                        case "CharacterId": value.CharacterId = PlayFabJson.readString(in); break;
+                        case "CustomTags": value.CustomTags = PlayFabJson.readMap(in, stringAdapter); break;
+                        case "PlayFabId": value.PlayFabId = PlayFabJson.readString(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class GetCharacterInventoryResultAdapter extends TypeAdapter<GetCharacterInventoryResult> {
+        private final TypeAdapter<ItemInstance> itemInstanceAdapter;
+        private final TypeAdapter<Integer> integerAdapter;
+        private final TypeAdapter<VirtualCurrencyRechargeTime> virtualCurrencyRechargeTimeAdapter;
+
+        private GetCharacterInventoryResultAdapter(Gson gson) {
+            itemInstanceAdapter = gson.getAdapter(ItemInstance.class);
+            integerAdapter = gson.getAdapter(Integer.class);
+            virtualCurrencyRechargeTimeAdapter = gson.getAdapter(VirtualCurrencyRechargeTime.class);
+        }
+
+        @Override
+        public void write(JsonWriter out, GetCharacterInventoryResult value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.name("CharacterId").value(value.CharacterId);
+            PlayFabJson.writeList(out.name("Inventory"), value.Inventory, itemInstanceAdapter);
+            out.name("PlayFabId").value(value.PlayFabId);
+            PlayFabJson.writeMap(out.name("VirtualCurrency"), value.VirtualCurrency, integerAdapter);
+            PlayFabJson.writeMap(out.name("VirtualCurrencyRechargeTimes"), value.VirtualCurrencyRechargeTimes, virtualCurrencyRechargeTimeAdapter);
+            out.endObject();
+        }
+
+        @Override
+        public GetCharacterInventoryResult read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            GetCharacterInventoryResult value = new GetCharacterInventoryResult();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "CharacterId": value.CharacterId = PlayFabJson.readString(in); break;
+                        case "Inventory": value.Inventory = PlayFabJson.readList(in, itemInstanceAdapter); break;
+                        case "PlayFabId": value.PlayFabId = PlayFabJson.readString(in); break;
+                        case "VirtualCurrency": value.VirtualCurrency = PlayFabJson.readMap(in, integerAdapter); break;
+                        case "VirtualCurrencyRechargeTimes": value.VirtualCurrencyRechargeTimes = PlayFabJson.readMap(in, virtualCurrencyRechargeTimeAdapter); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class GetCharacterLeaderboardRequestAdapter extends TypeAdapter<GetCharacterLeaderboardRequest> {
+        private GetCharacterLeaderboardRequestAdapter(Gson gson) {
+        }
+
+        @Override
+        public void write(JsonWriter out, GetCharacterLeaderboardRequest value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.name("CharacterType").value(value.CharacterType);
+            out.name("MaxResultsCount").value(value.MaxResultsCount);
+            out.name("StartPosition").value(value.StartPosition);
+            out.name("StatisticName").value(value.StatisticName);
+            out.endObject();
+        }
+
+        @Override
+        public GetCharacterLeaderboardRequest read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            GetCharacterLeaderboardRequest value = new GetCharacterLeaderboardRequest();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "CharacterType": value.CharacterType = PlayFabJson.readString(in); break;
+                        case "MaxResultsCount": value.MaxResultsCount = PlayFabJson.readInteger(in); break;
+                        case "StartPosition": value.StartPosition = PlayFabJson.readInteger(in); break;
+                        case "StatisticName": value.StatisticName = PlayFabJson.readString(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class GetCharacterLeaderboardResultAdapter extends TypeAdapter<GetCharacterLeaderboardResult> {
+        private final TypeAdapter<CharacterLeaderboardEntry> characterLeaderboardEntryAdapter;
+
+        private GetCharacterLeaderboardResultAdapter(Gson gson) {
+            characterLeaderboardEntryAdapter = gson.getAdapter(CharacterLeaderboardEntry.class);
+        }
+
+        @Override
+        public void write(JsonWriter out, GetCharacterLeaderboardResult value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            PlayFabJson.writeList(out.name("Leaderboard"), value.Leaderboard, characterLeaderboardEntryAdapter);
+            out.endObject();
+        }
+
+        @Override
+        public GetCharacterLeaderboardResult read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            GetCharacterLeaderboardResult value = new GetCharacterLeaderboardResult();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "Leaderboard": value.Leaderboard = PlayFabJson.readList(in, characterLeaderboardEntryAdapter); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class GetCharacterStatisticsRequestAdapter extends TypeAdapter<GetCharacterStatisticsRequest> {
+        private GetCharacterStatisticsRequestAdapter(Gson gson) {
+        }
+
+        @Override
+        public void write(JsonWriter out, GetCharacterStatisticsRequest value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.name("CharacterId").value(value.CharacterId);
+            out.name("PlayFabId").value(value.PlayFabId);
+            out.endObject();
+        }
+
+        @Override
+        public GetCharacterStatisticsRequest read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            GetCharacterStatisticsRequest value = new GetCharacterStatisticsRequest();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "CharacterId": value.CharacterId = PlayFabJson.readString(in); break;
+                        case "PlayFabId": value.PlayFabId = PlayFabJson.readString(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class GetCharacterStatisticsResultAdapter extends TypeAdapter<GetCharacterStatisticsResult> {
+        private final TypeAdapter<Integer> integerAdapter;
+
+        private GetCharacterStatisticsResultAdapter(Gson gson) {
+            integerAdapter = gson.getAdapter(Integer.class);
+        }
+
+        @Override
+        public void write(JsonWriter out, GetCharacterStatisticsResult value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.name("CharacterId").value(value.CharacterId);
+            PlayFabJson.writeMap(out.name("CharacterStatistics"), value.CharacterStatistics, integerAdapter);
+            out.name("PlayFabId").value(value.PlayFabId);
+            out.endObject();
+        }
+
+        @Override
+        public GetCharacterStatisticsResult read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            GetCharacterStatisticsResult value = new GetCharacterStatisticsResult();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "CharacterId": value.CharacterId = PlayFabJson.readString(in); break;
+                        case "CharacterStatistics": value.CharacterStatistics = PlayFabJson.readMap(in, integerAdapter); break;
+                        case "PlayFabId": value.PlayFabId = PlayFabJson.readString(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class GetContentDownloadUrlRequestAdapter extends TypeAdapter<GetContentDownloadUrlRequest> {
+        private GetContentDownloadUrlRequestAdapter(Gson gson) {
+        }
+
+        @Override
+        public void write(JsonWriter out, GetContentDownloadUrlRequest value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.name("HttpMethod").value(value.HttpMethod);
+            out.name("Key").value(value.Key);
+            out.name("ThruCDN").value(value.ThruCDN);
+            out.endObject();
+        }
+
+        @Override
+        public GetContentDownloadUrlRequest read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            GetContentDownloadUrlRequest value = new GetContentDownloadUrlRequest();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "HttpMethod": value.HttpMethod = PlayFabJson.readString(in); break;
+                        case "Key": value.Key = PlayFabJson.readString(in); break;
+                        case "ThruCDN": value.ThruCDN = PlayFabJson.readBoolean(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class GetContentDownloadUrlResultAdapter extends TypeAdapter<GetContentDownloadUrlResult> {
+        private GetContentDownloadUrlResultAdapter(Gson gson) {
+        }
+
+        @Override
+        public void write(JsonWriter out, GetContentDownloadUrlResult value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.name("URL").value(value.URL);
+            out.endObject();
+        }
+
+        @Override
+        public GetContentDownloadUrlResult read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            GetContentDownloadUrlResult value = new GetContentDownloadUrlResult();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "URL": value.URL = PlayFabJson.readString(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class GetFriendLeaderboardRequestAdapter extends TypeAdapter<GetFriendLeaderboardRequest> {
+        private final TypeAdapter<String> stringAdapter;
+        private final TypeAdapter<PlayerProfileViewConstraints> playerProfileViewConstraintsAdapter;
+
+        private GetFriendLeaderboardRequestAdapter(Gson gson) {
+            stringAdapter = gson.getAdapter(String.class);
+            playerProfileViewConstraintsAdapter = gson.getAdapter(PlayerProfileViewConstraints.class);
+        }
+
+        @Override
+        public void write(JsonWriter out, GetFriendLeaderboardRequest value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            PlayFabJson.writeMap(out.name("CustomTags"), value.CustomTags, stringAdapter);
+            out.name("IncludeFacebookFriends").value(value.IncludeFacebookFriends);
+            out.name("IncludeSteamFriends").value(value.IncludeSteamFriends);
+            out.name("MaxResultsCount").value(value.MaxResultsCount);
+            out.name("PlayFabId").value(value.PlayFabId);
+            playerProfileViewConstraintsAdapter.write(out.name("ProfileConstraints"), value.ProfileConstraints);
+            out.name("StartPosition").value(value.StartPosition);
+            out.name("StatisticName").value(value.StatisticName);
+            out.name("Version").value(value.Version);
+            out.name("XboxToken").value(value.XboxToken);
+            out.endObject();
+        }
+
+        @Override
+        public GetFriendLeaderboardRequest read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            GetFriendLeaderboardRequest value = new GetFriendLeaderboardRequest();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "CustomTags": value.CustomTags = PlayFabJson.readMap(in, stringAdapter); break;
+                        case "IncludeFacebookFriends": value.IncludeFacebookFriends = PlayFabJson.readBoolean(in); break;
+                        case "IncludeSteamFriends": value.IncludeSteamFriends = PlayFabJson.readBoolean(in); break;
+                        case "MaxResultsCount": value.MaxResultsCount = PlayFabJson.readInteger(in); break;
+                        case "PlayFabId": value.PlayFabId = PlayFabJson.readString(in); break;
+                        case "ProfileConstraints": value.ProfileConstraints = playerProfileViewConstraintsAdapter.read(in); break;
+                        case "StartPosition": value.StartPosition = PlayFabJson.readInteger(in); break;
+                        case "StatisticName": value.StatisticName = PlayFabJson.readString(in); break;
+                        case "Version": value.Version = PlayFabJson.readInteger(in); break;
+                        case "XboxToken": value.XboxToken = PlayFabJson.readString(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class GetFriendsListRequestAdapter extends TypeAdapter<GetFriendsListRequest> {
+        private final TypeAdapter<String> stringAdapter;
+        private final TypeAdapter<PlayerProfileViewConstraints> playerProfileViewConstraintsAdapter;
+
+        private GetFriendsListRequestAdapter(Gson gson) {
+            stringAdapter = gson.getAdapter(String.class);
+            playerProfileViewConstraintsAdapter = gson.getAdapter(PlayerProfileViewConstraints.class);
+        }
+
+        @Override
+        public void write(JsonWriter out, GetFriendsListRequest value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            PlayFabJson.writeMap(out.name("CustomTags"), value.CustomTags, stringAdapter);
+            out.name("IncludeFacebookFriends").value(value.IncludeFacebookFriends);
+            out.name("IncludeSteamFriends").value(value.IncludeSteamFriends);
+            out.name("PlayFabId").value(value.PlayFabId);
+            playerProfileViewConstraintsAdapter.write(out.name("ProfileConstraints"), value.ProfileConstraints);
+            out.name("XboxToken").value(value.XboxToken);
+            out.endObject();
+        }
+
+        @Override
+        public GetFriendsListRequest read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            GetFriendsListRequest value = new GetFriendsListRequest();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "CustomTags": value.CustomTags = PlayFabJson.readMap(in, stringAdapter); break;
+                        case "IncludeFacebookFriends": value.IncludeFacebookFriends = PlayFabJson.readBoolean(in); break;
+                        case "IncludeSteamFriends": value.IncludeSteamFriends = PlayFabJson.readBoolean(in); break;
+                        case "PlayFabId": value.PlayFabId = PlayFabJson.readString(in); break;
+                        case "ProfileConstraints": value.ProfileConstraints = playerProfileViewConstraintsAdapter.read(in); break;
+                        case "XboxToken": value.XboxToken = PlayFabJson.readString(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class GetFriendsListResultAdapter extends TypeAdapter<GetFriendsListResult> {
+        private final TypeAdapter<FriendInfo> friendInfoAdapter;
+
+        private GetFriendsListResultAdapter(Gson gson) {
+            friendInfoAdapter = gson.getAdapter(FriendInfo.class);
+        }
+
+        @Override
+        public void write(JsonWriter out, GetFriendsListResult value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            PlayFabJson.writeList(out.name("Friends"), value.Friends, friendInfoAdapter);
+            out.endObject();
+        }
+
+        @Override
+        public GetFriendsListResult read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            GetFriendsListResult value = new GetFriendsListResult();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "Friends": value.Friends = PlayFabJson.readList(in, friendInfoAdapter); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class GetLeaderboardAroundCharacterRequestAdapter extends TypeAdapter<GetLeaderboardAroundCharacterRequest> {
+        private GetLeaderboardAroundCharacterRequestAdapter(Gson gson) {
+        }
+
+        @Override
+        public void write(JsonWriter out, GetLeaderboardAroundCharacterRequest value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.name("CharacterId").value(value.CharacterId);
+            out.name("CharacterType").value(value.CharacterType);
+            out.name("MaxResultsCount").value(value.MaxResultsCount);
+            out.name("PlayFabId").value(value.PlayFabId);
+            out.name("StatisticName").value(value.StatisticName);
+            out.endObject();
+        }
+
+        @Override
+        public GetLeaderboardAroundCharacterRequest read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            GetLeaderboardAroundCharacterRequest value = new GetLeaderboardAroundCharacterRequest();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "CharacterId": value.CharacterId = PlayFabJson.readString(in); break;
+                        case "CharacterType": value.CharacterType = PlayFabJson.readString(in); break;
+                        case "MaxResultsCount": value.MaxResultsCount = PlayFabJson.readInteger(in); break;
+                        case "PlayFabId": value.PlayFabId = PlayFabJson.readString(in); break;
+                        case "StatisticName": value.StatisticName = PlayFabJson.readString(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class GetLeaderboardAroundCharacterResultAdapter extends TypeAdapter<GetLeaderboardAroundCharacterResult> {
+        private final TypeAdapter<CharacterLeaderboardEntry> characterLeaderboardEntryAdapter;
+
+        private GetLeaderboardAroundCharacterResultAdapter(Gson gson) {
+            characterLeaderboardEntryAdapter = gson.getAdapter(CharacterLeaderboardEntry.class);
+        }
+
+        @Override
+        public void write(JsonWriter out, GetLeaderboardAroundCharacterResult value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            PlayFabJson.writeList(out.name("Leaderboard"), value.Leaderboard, characterLeaderboardEntryAdapter);
+            out.endObject();
+        }
+
+        @Override
+        public GetLeaderboardAroundCharacterResult read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            GetLeaderboardAroundCharacterResult value = new GetLeaderboardAroundCharacterResult();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "Leaderboard": value.Leaderboard = PlayFabJson.readList(in, characterLeaderboardEntryAdapter); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class GetLeaderboardAroundUserRequestAdapter extends TypeAdapter<GetLeaderboardAroundUserRequest> {
+        private final TypeAdapter<String> stringAdapter;
+        private final TypeAdapter<PlayerProfileViewConstraints> playerProfileViewConstraintsAdapter;
+
+        private GetLeaderboardAroundUserRequestAdapter(Gson gson) {
+            stringAdapter = gson.getAdapter(String.class);
+            playerProfileViewConstraintsAdapter = gson.getAdapter(PlayerProfileViewConstraints.class);
+        }
+
+        @Override
+        public void write(JsonWriter out, GetLeaderboardAroundUserRequest value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            PlayFabJson.writeMap(out.name("CustomTags"), value.CustomTags, stringAdapter);
+            out.name("MaxResultsCount").value(value.MaxResultsCount);
+            out.name("PlayFabId").value(value.PlayFabId);
+            playerProfileViewConstraintsAdapter.write(out.name("ProfileConstraints"), value.ProfileConstraints);
+            out.name("StatisticName").value(value.StatisticName);
+            out.name("Version").value(value.Version);
+            out.endObject();
+        }
+
+        @Override
+        public GetLeaderboardAroundUserRequest read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            GetLeaderboardAroundUserRequest value = new GetLeaderboardAroundUserRequest();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "CustomTags": value.CustomTags = PlayFabJson.readMap(in, stringAdapter); break;
+                        case "MaxResultsCount": value.MaxResultsCount = PlayFabJson.readInteger(in); break;
+                        case "PlayFabId": value.PlayFabId = PlayFabJson.readString(in); break;
+                        case "ProfileConstraints": value.ProfileConstraints = playerProfileViewConstraintsAdapter.read(in); break;
+                        case "StatisticName": value.StatisticName = PlayFabJson.readString(in); break;
+                        case "Version": value.Version = PlayFabJson.readInteger(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class GetLeaderboardAroundUserResultAdapter extends TypeAdapter<GetLeaderboardAroundUserResult> {
+        private final TypeAdapter<PlayerLeaderboardEntry> playerLeaderboardEntryAdapter;
+        private final TypeAdapter<Date> dateAdapter;
+
+        private GetLeaderboardAroundUserResultAdapter(Gson gson) {
+            playerLeaderboardEntryAdapter = gson.getAdapter(PlayerLeaderboardEntry.class);
+            dateAdapter = gson.getAdapter(Date.class);
+        }
+
+        @Override
+        public void write(JsonWriter out, GetLeaderboardAroundUserResult value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            PlayFabJson.writeList(out.name("Leaderboard"), value.Leaderboard, playerLeaderboardEntryAdapter);
+            dateAdapter.write(out.name("NextReset"), value.NextReset);
+            out.name("Version").value(value.Version);
+            out.endObject();
+        }
+
+        @Override
+        public GetLeaderboardAroundUserResult read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            GetLeaderboardAroundUserResult value = new GetLeaderboardAroundUserResult();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "Leaderboard": value.Leaderboard = PlayFabJson.readList(in, playerLeaderboardEntryAdapter); break;
+                        case "NextReset": value.NextReset = dateAdapter.read(in); break;
+                        case "Version": value.Version = PlayFabJson.readInteger(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class GetLeaderboardForUsersCharactersRequestAdapter extends TypeAdapter<GetLeaderboardForUsersCharactersRequest> {
+        private GetLeaderboardForUsersCharactersRequestAdapter(Gson gson) {
+        }
+
+        @Override
+        public void write(JsonWriter out, GetLeaderboardForUsersCharactersRequest value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.name("PlayFabId").value(value.PlayFabId);
+            out.name("StatisticName").value(value.StatisticName);
+            out.endObject();
+        }
+
+        @Override
+        public GetLeaderboardForUsersCharactersRequest read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            GetLeaderboardForUsersCharactersRequest value = new GetLeaderboardForUsersCharactersRequest();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "PlayFabId": value.PlayFabId = PlayFabJson.readString(in); break;
+                        case "StatisticName": value.StatisticName = PlayFabJson.readString(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class GetLeaderboardForUsersCharactersResultAdapter extends TypeAdapter<GetLeaderboardForUsersCharactersResult> {
+        private final TypeAdapter<CharacterLeaderboardEntry> characterLeaderboardEntryAdapter;
+
+        private GetLeaderboardForUsersCharactersResultAdapter(Gson gson) {
+            characterLeaderboardEntryAdapter = gson.getAdapter(CharacterLeaderboardEntry.class);
+        }
+
+        @Override
+        public void write(JsonWriter out, GetLeaderboardForUsersCharactersResult value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            PlayFabJson.writeList(out.name("Leaderboard"), value.Leaderboard, characterLeaderboardEntryAdapter);
+            out.endObject();
+        }
+
+        @Override
+        public GetLeaderboardForUsersCharactersResult read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            GetLeaderboardForUsersCharactersResult value = new GetLeaderboardForUsersCharactersResult();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "Leaderboard": value.Leaderboard = PlayFabJson.readList(in, characterLeaderboardEntryAdapter); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class GetLeaderboardRequestAdapter extends TypeAdapter<GetLeaderboardRequest> {
+        private final TypeAdapter<String> stringAdapter;
+        private final TypeAdapter<PlayerProfileViewConstraints> playerProfileViewConstraintsAdapter;
+
+        private GetLeaderboardRequestAdapter(Gson gson) {
+            stringAdapter = gson.getAdapter(String.class);
+            playerProfileViewConstraintsAdapter = gson.getAdapter(PlayerProfileViewConstraints.class);
+        }
+
+        @Override
+        public void write(JsonWriter out, GetLeaderboardRequest value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            PlayFabJson.writeMap(out.name("CustomTags"), value.CustomTags, stringAdapter);
+            out.name("MaxResultsCount").value(value.MaxResultsCount);
+            playerProfileViewConstraintsAdapter.write(out.name("ProfileConstraints"), value.ProfileConstraints);
+            out.name("StartPosition").value(value.StartPosition);
+            out.name("StatisticName").value(value.StatisticName);
+            out.name("Version").value(value.Version);
+            out.endObject();
+        }
+
+        @Override
+        public GetLeaderboardRequest read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            GetLeaderboardRequest value = new GetLeaderboardRequest();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "CustomTags": value.CustomTags = PlayFabJson.readMap(in, stringAdapter); break;
+                        case "MaxResultsCount": value.MaxResultsCount = PlayFabJson.readInteger(in); break;
+                        case "ProfileConstraints": value.ProfileConstraints = playerProfileViewConstraintsAdapter.read(in); break;
+                        case "StartPosition": value.StartPosition = PlayFabJson.readInteger(in); break;
+                        case "StatisticName": value.StatisticName = PlayFabJson.readString(in); break;
+                        case "Version": value.Version = PlayFabJson.readInteger(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class GetLeaderboardResultAdapter extends TypeAdapter<GetLeaderboardResult> {
+        private final TypeAdapter<PlayerLeaderboardEntry> playerLeaderboardEntryAdapter;
+        private final TypeAdapter<Date> dateAdapter;
+
+        private GetLeaderboardResultAdapter(Gson gson) {
+            playerLeaderboardEntryAdapter = gson.getAdapter(PlayerLeaderboardEntry.class);
+            dateAdapter = gson.getAdapter(Date.class);
+        }
+
+        @Override
+        public void write(JsonWriter out, GetLeaderboardResult value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            PlayFabJson.writeList(out.name("Leaderboard"), value.Leaderboard, playerLeaderboardEntryAdapter);
+            dateAdapter.write(out.name("NextReset"), value.NextReset);
+            out.name("Version").value(value.Version);
+            out.endObject();
+        }
+
+        @Override
+        public GetLeaderboardResult read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            GetLeaderboardResult value = new GetLeaderboardResult();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "Leaderboard": value.Leaderboard = PlayFabJson.readList(in, playerLeaderboardEntryAdapter); break;
+                        case "NextReset": value.NextReset = dateAdapter.read(in); break;
+                        case "Version": value.Version = PlayFabJson.readInteger(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class GetPlayerCombinedInfoRequestAdapter extends TypeAdapter<GetPlayerCombinedInfoRequest> {
+        private final TypeAdapter<String> stringAdapter;
+        private final TypeAdapter<GetPlayerCombinedInfoRequestParams> getPlayerCombinedInfoRequestParamsAdapter;
+
+        private GetPlayerCombinedInfoRequestAdapter(Gson gson) {
+            stringAdapter = gson.getAdapter(String.class);
+            getPlayerCombinedInfoRequestParamsAdapter = gson.getAdapter(GetPlayerCombinedInfoRequestParams.class);
+        }
+
+        @Override
+        public void write(JsonWriter out, GetPlayerCombinedInfoRequest value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            PlayFabJson.writeMap(out.name("CustomTags"), value.CustomTags, stringAdapter);
+            getPlayerCombinedInfoRequestParamsAdapter.write(out.name("InfoRequestParameters"), value.InfoRequestParameters);
+            out.name("PlayFabId").value(value.PlayFabId);
+            out.endObject();
+        }
+
+        @Override
+        public GetPlayerCombinedInfoRequest read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            GetPlayerCombinedInfoRequest value = new GetPlayerCombinedInfoRequest();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "CustomTags": value.CustomTags = PlayFabJson.readMap(in, stringAdapter); break;
+                        case "InfoRequestParameters": value.InfoRequestParameters = getPlayerCombinedInfoRequestParamsAdapter.read(in); break;
+                        case "PlayFabId": value.PlayFabId = PlayFabJson.readString(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class GetPlayerCombinedInfoRequestParamsAdapter extends TypeAdapter<GetPlayerCombinedInfoRequestParams> {
+        private final TypeAdapter<String> stringAdapter;
+        private final TypeAdapter<PlayerProfileViewConstraints> playerProfileViewConstraintsAdapter;
+
+        private GetPlayerCombinedInfoRequestParamsAdapter(Gson gson) {
+            stringAdapter = gson.getAdapter(String.class);
+            playerProfileViewConstraintsAdapter = gson.getAdapter(PlayerProfileViewConstraints.class);
+        }
+
+        @Override
+        public void write(JsonWriter out, GetPlayerCombinedInfoRequestParams value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.name("GetCharacterInventories").value(value.GetCharacterInventories);
+            out.name("GetCharacterList").value(value.GetCharacterList);
+            out.name("GetPlayerProfile").value(value.GetPlayerProfile);
+            out.name("GetPlayerStatistics").value(value.GetPlayerStatistics);
+            out.name("GetTitleData").value(value.GetTitleData);
+            out.name("GetUserAccountInfo").value(value.GetUserAccountInfo);
+            out.name("GetUserData").value(value.GetUserData);
+            out.name("GetUserInventory").value(value.GetUserInventory);
+            out.name("GetUserReadOnlyData").value(value.GetUserReadOnlyData);
+            out.name("GetUserVirtualCurrency").value(value.GetUserVirtualCurrency);
+            PlayFabJson.writeList(out.name("PlayerStatisticNames"), value.PlayerStatisticNames, stringAdapter);
+            playerProfileViewConstraintsAdapter.write(out.name("ProfileConstraints"), value.ProfileConstraints);
+            PlayFabJson.writeList(out.name("TitleDataKeys"), value.TitleDataKeys, stringAdapter);
+            PlayFabJson.writeList(out.name("UserDataKeys"), value.UserDataKeys, stringAdapter);
+            PlayFabJson.writeList(out.name("UserReadOnlyDataKeys"), value.UserReadOnlyDataKeys, stringAdapter);
+            out.endObject();
+        }
+
+        @Override
+        public GetPlayerCombinedInfoRequestParams read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            GetPlayerCombinedInfoRequestParams value = new GetPlayerCombinedInfoRequestParams();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "GetCharacterInventories": value.GetCharacterInventories = PlayFabJson.readBoolean(in); break;
+                        case "GetCharacterList": value.GetCharacterList = PlayFabJson.readBoolean(in); break;
+                        case "GetPlayerProfile": value.GetPlayerProfile = PlayFabJson.readBoolean(in); break;
+                        case "GetPlayerStatistics": value.GetPlayerStatistics = PlayFabJson.readBoolean(in); break;
+                        case "GetTitleData": value.GetTitleData = PlayFabJson.readBoolean(in); break;
+                        case "GetUserAccountInfo": value.GetUserAccountInfo = PlayFabJson.readBoolean(in); break;
+                        case "GetUserData": value.GetUserData = PlayFabJson.readBoolean(in); break;
+                        case "GetUserInventory": value.GetUserInventory = PlayFabJson.readBoolean(in); break;
+                        case "GetUserReadOnlyData": value.GetUserReadOnlyData = PlayFabJson.readBoolean(in); break;
+                        case "GetUserVirtualCurrency": value.GetUserVirtualCurrency = PlayFabJson.readBoolean(in); break;
+                        case "PlayerStatisticNames": value.PlayerStatisticNames = PlayFabJson.readList(in, stringAdapter); break;
+                        case "ProfileConstraints": value.ProfileConstraints = playerProfileViewConstraintsAdapter.read(in); break;
+                        case "TitleDataKeys": value.TitleDataKeys = PlayFabJson.readList(in, stringAdapter); break;
+                        case "UserDataKeys": value.UserDataKeys = PlayFabJson.readList(in, stringAdapter); break;
+                        case "UserReadOnlyDataKeys": value.UserReadOnlyDataKeys = PlayFabJson.readList(in, stringAdapter); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class GetPlayerCombinedInfoResultAdapter extends TypeAdapter<GetPlayerCombinedInfoResult> {
+        private final TypeAdapter<GetPlayerCombinedInfoResultPayload> getPlayerCombinedInfoResultPayloadAdapter;
+
+        private GetPlayerCombinedInfoResultAdapter(Gson gson) {
+            getPlayerCombinedInfoResultPayloadAdapter = gson.getAdapter(GetPlayerCombinedInfoResultPayload.class);
+        }
+
+        @Override
+        public void write(JsonWriter out, GetPlayerCombinedInfoResult value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            getPlayerCombinedInfoResultPayloadAdapter.write(out.name("InfoResultPayload"), value.InfoResultPayload);
+            out.name("PlayFabId").value(value.PlayFabId);
+            out.endObject();
+        }
+
+        @Override
+        public GetPlayerCombinedInfoResult read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            GetPlayerCombinedInfoResult value = new GetPlayerCombinedInfoResult();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "InfoResultPayload": value.InfoResultPayload = getPlayerCombinedInfoResultPayloadAdapter.read(in); break;
+                        case "PlayFabId": value.PlayFabId = PlayFabJson.readString(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class GetPlayerCombinedInfoResultPayloadAdapter extends TypeAdapter<GetPlayerCombinedInfoResultPayload> {
+        private final TypeAdapter<UserAccountInfo> userAccountInfoAdapter;
+        private final TypeAdapter<CharacterInventory> characterInventoryAdapter;
+        private final TypeAdapter<CharacterResult> characterResultAdapter;
+        private final TypeAdapter<PlayerProfileModel> playerProfileModelAdapter;
+        private final TypeAdapter<StatisticValue> statisticValueAdapter;
+        private final TypeAdapter<String> stringAdapter;
+        private final TypeAdapter<UserDataRecord> userDataRecordAdapter;
+        private final TypeAdapter<ItemInstance> itemInstanceAdapter;
+        private final TypeAdapter<Integer> integerAdapter;
+        private final TypeAdapter<VirtualCurrencyRechargeTime> virtualCurrencyRechargeTimeAdapter;
+
+        private GetPlayerCombinedInfoResultPayloadAdapter(Gson gson) {
+            userAccountInfoAdapter = gson.getAdapter(UserAccountInfo.class);
+            characterInventoryAdapter = gson.getAdapter(CharacterInventory.class);
+            characterResultAdapter = gson.getAdapter(CharacterResult.class);
+            playerProfileModelAdapter = gson.getAdapter(PlayerProfileModel.class);
+            statisticValueAdapter = gson.getAdapter(StatisticValue.class);
+            stringAdapter = gson.getAdapter(String.class);
+            userDataRecordAdapter = gson.getAdapter(UserDataRecord.class);
+            itemInstanceAdapter = gson.getAdapter(ItemInstance.class);
+            integerAdapter = gson.getAdapter(Integer.class);
+            virtualCurrencyRechargeTimeAdapter = gson.getAdapter(VirtualCurrencyRechargeTime.class);
+        }
+
+        @Override
+        public void write(JsonWriter out, GetPlayerCombinedInfoResultPayload value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            userAccountInfoAdapter.write(out.name("AccountInfo"), value.AccountInfo);
+            PlayFabJson.writeList(out.name("CharacterInventories"), value.CharacterInventories, characterInventoryAdapter);
+            PlayFabJson.writeList(out.name("CharacterList"), value.CharacterList, characterResultAdapter);
+            playerProfileModelAdapter.write(out.name("PlayerProfile"), value.PlayerProfile);
+            PlayFabJson.writeList(out.name("PlayerStatistics"), value.PlayerStatistics, statisticValueAdapter);
+            PlayFabJson.writeMap(out.name("TitleData"), value.TitleData, stringAdapter);
+            PlayFabJson.writeMap(out.name("UserData"), value.UserData, userDataRecordAdapter);
+            out.name("UserDataVersion").value(value.UserDataVersion);
+            PlayFabJson.writeList(out.name("UserInventory"), value.UserInventory, itemInstanceAdapter);
+            PlayFabJson.writeMap(out.name("UserReadOnlyData"), value.UserReadOnlyData, userDataRecordAdapter);
+            out.name("UserReadOnlyDataVersion").value(value.UserReadOnlyDataVersion);
+            PlayFabJson.writeMap(out.name("UserVirtualCurrency"), value.UserVirtualCurrency, integerAdapter);
+            PlayFabJson.writeMap(out.name("UserVirtualCurrencyRechargeTimes"), value.UserVirtualCurrencyRechargeTimes, virtualCurrencyRechargeTimeAdapter);
+            out.endObject();
+        }
+
+        @Override
+        public GetPlayerCombinedInfoResultPayload read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            GetPlayerCombinedInfoResultPayload value = new GetPlayerCombinedInfoResultPayload();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "AccountInfo": value.AccountInfo = userAccountInfoAdapter.read(in); break;
+                        case "CharacterInventories": value.CharacterInventories = PlayFabJson.readList(in, characterInventoryAdapter); break;
+                        case "CharacterList": value.CharacterList = PlayFabJson.readList(in, characterResultAdapter); break;
+                        case "PlayerProfile": value.PlayerProfile = playerProfileModelAdapter.read(in); break;
+                        case "PlayerStatistics": value.PlayerStatistics = PlayFabJson.readList(in, statisticValueAdapter); break;
+                        case "TitleData": value.TitleData = PlayFabJson.readMap(in, stringAdapter); break;
+                        case "UserData": value.UserData = PlayFabJson.readMap(in, userDataRecordAdapter); break;
+                        case "UserDataVersion": value.UserDataVersion = PlayFabJson.readLong(in); break;
+                        case "UserInventory": value.UserInventory = PlayFabJson.readList(in, itemInstanceAdapter); break;
+                        case "UserReadOnlyData": value.UserReadOnlyData = PlayFabJson.readMap(in, userDataRecordAdapter); break;
+                        case "UserReadOnlyDataVersion": value.UserReadOnlyDataVersion = PlayFabJson.readLong(in); break;
+                        case "UserVirtualCurrency": value.UserVirtualCurrency = PlayFabJson.readMap(in, integerAdapter); break;
+                        case "UserVirtualCurrencyRechargeTimes": value.UserVirtualCurrencyRechargeTimes = PlayFabJson.readMap(in, virtualCurrencyRechargeTimeAdapter); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class GetPlayerProfileRequestAdapter extends TypeAdapter<GetPlayerProfileRequest> {
+        private final TypeAdapter<String> stringAdapter;
+        private final TypeAdapter<PlayerProfileViewConstraints> playerProfileViewConstraintsAdapter;
+
+        private GetPlayerProfileRequestAdapter(Gson gson) {
+            stringAdapter = gson.getAdapter(String.class);
+            playerProfileViewConstraintsAdapter = gson.getAdapter(PlayerProfileViewConstraints.class);
+        }
+
+        @Override
+        public void write(JsonWriter out, GetPlayerProfileRequest value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            PlayFabJson.writeMap(out.name("CustomTags"), value.CustomTags, stringAdapter);
+            out.name("PlayFabId").value(value.PlayFabId);
+            playerProfileViewConstraintsAdapter.write(out.name("ProfileConstraints"), value.ProfileConstraints);
+            out.endObject();
+        }
+
+        @Override
+        public GetPlayerProfileRequest read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            GetPlayerProfileRequest value = new GetPlayerProfileRequest();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "CustomTags": value.CustomTags = PlayFabJson.readMap(in, stringAdapter); break;
+                        case "PlayFabId": value.PlayFabId = PlayFabJson.readString(in); break;
+                        case "ProfileConstraints": value.ProfileConstraints = playerProfileViewConstraintsAdapter.read(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class GetPlayerProfileResultAdapter extends TypeAdapter<GetPlayerProfileResult> {
+        private final TypeAdapter<PlayerProfileModel> playerProfileModelAdapter;
+
+        private GetPlayerProfileResultAdapter(Gson gson) {
+            playerProfileModelAdapter = gson.getAdapter(PlayerProfileModel.class);
+        }
+
+        @Override
+        public void write(JsonWriter out, GetPlayerProfileResult value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            playerProfileModelAdapter.write(out.name("PlayerProfile"), value.PlayerProfile);
+            out.endObject();
+        }
+
+        @Override
+        public GetPlayerProfileResult read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            GetPlayerProfileResult value = new GetPlayerProfileResult();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "PlayerProfile": value.PlayerProfile = playerProfileModelAdapter.read(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class GetPlayerSegmentsResultAdapter extends TypeAdapter<GetPlayerSegmentsResult> {
+        private final TypeAdapter<GetSegmentResult> getSegmentResultAdapter;
+
+        private GetPlayerSegmentsResultAdapter(Gson gson) {
+            getSegmentResultAdapter = gson.getAdapter(GetSegmentResult.class);
+        }
+
+        @Override
+        public void write(JsonWriter out, GetPlayerSegmentsResult value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            PlayFabJson.writeList(out.name("Segments"), value.Segments, getSegmentResultAdapter);
+            out.endObject();
+        }
+
+        @Override
+        public GetPlayerSegmentsResult read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            GetPlayerSegmentsResult value = new GetPlayerSegmentsResult();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "Segments": value.Segments = PlayFabJson.readList(in, getSegmentResultAdapter); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class GetPlayersInSegmentRequestAdapter extends TypeAdapter<GetPlayersInSegmentRequest> {
+        private final TypeAdapter<String> stringAdapter;
+
+        private GetPlayersInSegmentRequestAdapter(Gson gson) {
+            stringAdapter = gson.getAdapter(String.class);
+        }
+
+        @Override
+        public void write(JsonWriter out, GetPlayersInSegmentRequest value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.name("ContinuationToken").value(value.ContinuationToken);
+            PlayFabJson.writeMap(out.name("CustomTags"), value.CustomTags, stringAdapter);
+            out.name("MaxBatchSize").value(value.MaxBatchSize);
+            out.name("SecondsToLive").value(value.SecondsToLive);
+            out.name("SegmentId").value(value.SegmentId);
+            out.endObject();
+        }
+
+        @Override
+        public GetPlayersInSegmentRequest read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            GetPlayersInSegmentRequest value = new GetPlayersInSegmentRequest();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "ContinuationToken": value.ContinuationToken = PlayFabJson.readString(in); break;
+                        case "CustomTags": value.CustomTags = PlayFabJson.readMap(in, stringAdapter); break;
+                        case "MaxBatchSize": value.MaxBatchSize = PlayFabJson.readLong(in); break;
+                        case "SecondsToLive": value.SecondsToLive = PlayFabJson.readLong(in); break;
+                        case "SegmentId": value.SegmentId = PlayFabJson.readString(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class GetPlayersInSegmentResultAdapter extends TypeAdapter<GetPlayersInSegmentResult> {
+        private final TypeAdapter<PlayerProfile> playerProfileAdapter;
+
+        private GetPlayersInSegmentResultAdapter(Gson gson) {
+            playerProfileAdapter = gson.getAdapter(PlayerProfile.class);
+        }
+
+        @Override
+        public void write(JsonWriter out, GetPlayersInSegmentResult value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.name("ContinuationToken").value(value.ContinuationToken);
+            PlayFabJson.writeList(out.name("PlayerProfiles"), value.PlayerProfiles, playerProfileAdapter);
+            out.name("ProfilesInSegment").value(value.ProfilesInSegment);
+            out.endObject();
+        }
+
+        @Override
+        public GetPlayersInSegmentResult read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            GetPlayersInSegmentResult value = new GetPlayersInSegmentResult();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "ContinuationToken": value.ContinuationToken = PlayFabJson.readString(in); break;
+                        case "PlayerProfiles": value.PlayerProfiles = PlayFabJson.readList(in, playerProfileAdapter); break;
+                        case "ProfilesInSegment": value.ProfilesInSegment = PlayFabJson.readInteger(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class GetPlayersSegmentsRequestAdapter extends TypeAdapter<GetPlayersSegmentsRequest> {
+        private final TypeAdapter<String> stringAdapter;
+
+        private GetPlayersSegmentsRequestAdapter(Gson gson) {
+            stringAdapter = gson.getAdapter(String.class);
+        }
+
+        @Override
+        public void write(JsonWriter out, GetPlayersSegmentsRequest value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            PlayFabJson.writeMap(out.name("CustomTags"), value.CustomTags, stringAdapter);
+            out.name("PlayFabId").value(value.PlayFabId);
+            out.endObject();
+        }
+
+        @Override
+        public GetPlayersSegmentsRequest read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            GetPlayersSegmentsRequest value = new GetPlayersSegmentsRequest();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "CustomTags": value.CustomTags = PlayFabJson.readMap(in, stringAdapter); break;
+                        case "PlayFabId": value.PlayFabId = PlayFabJson.readString(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class GetPlayerStatisticsRequestAdapter extends TypeAdapter<GetPlayerStatisticsRequest> {
+        private final TypeAdapter<String> stringAdapter;
+        private final TypeAdapter<StatisticNameVersion> statisticNameVersionAdapter;
+
+        private GetPlayerStatisticsRequestAdapter(Gson gson) {
+            stringAdapter = gson.getAdapter(String.class);
+            statisticNameVersionAdapter = gson.getAdapter(StatisticNameVersion.class);
+        }
+
+        @Override
+        public void write(JsonWriter out, GetPlayerStatisticsRequest value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            PlayFabJson.writeMap(out.name("CustomTags"), value.CustomTags, stringAdapter);
+            out.name("PlayFabId").value(value.PlayFabId);
+            PlayFabJson.writeList(out.name("StatisticNames"), value.StatisticNames, stringAdapter);
+            PlayFabJson.writeList(out.name("StatisticNameVersions"), value.StatisticNameVersions, statisticNameVersionAdapter);
+            out.endObject();
+        }
+
+        @Override
+        public GetPlayerStatisticsRequest read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            GetPlayerStatisticsRequest value = new GetPlayerStatisticsRequest();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "CustomTags": value.CustomTags = PlayFabJson.readMap(in, stringAdapter); break;
+                        case "PlayFabId": value.PlayFabId = PlayFabJson.readString(in); break;
+                        case "StatisticNames": value.StatisticNames = PlayFabJson.readList(in, stringAdapter); break;
+                        case "StatisticNameVersions": value.StatisticNameVersions = PlayFabJson.readList(in, statisticNameVersionAdapter); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class GetPlayerStatisticsResultAdapter extends TypeAdapter<GetPlayerStatisticsResult> {
+        private final TypeAdapter<StatisticValue> statisticValueAdapter;
+
+        private GetPlayerStatisticsResultAdapter(Gson gson) {
+            statisticValueAdapter = gson.getAdapter(StatisticValue.class);
+        }
+
+        @Override
+        public void write(JsonWriter out, GetPlayerStatisticsResult value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.name("PlayFabId").value(value.PlayFabId);
+            PlayFabJson.writeList(out.name("Statistics"), value.Statistics, statisticValueAdapter);
+            out.endObject();
+        }
+
+        @Override
+        public GetPlayerStatisticsResult read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            GetPlayerStatisticsResult value = new GetPlayerStatisticsResult();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "PlayFabId": value.PlayFabId = PlayFabJson.readString(in); break;
+                        case "Statistics": value.Statistics = PlayFabJson.readList(in, statisticValueAdapter); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class GetPlayerStatisticVersionsRequestAdapter extends TypeAdapter<GetPlayerStatisticVersionsRequest> {
+        private final TypeAdapter<String> stringAdapter;
+
+        private GetPlayerStatisticVersionsRequestAdapter(Gson gson) {
+            stringAdapter = gson.getAdapter(String.class);
+        }
+
+        @Override
+        public void write(JsonWriter out, GetPlayerStatisticVersionsRequest value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            PlayFabJson.writeMap(out.name("CustomTags"), value.CustomTags, stringAdapter);
+            out.name("StatisticName").value(value.StatisticName);
+            out.endObject();
+        }
+
+        @Override
+        public GetPlayerStatisticVersionsRequest read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            GetPlayerStatisticVersionsRequest value = new GetPlayerStatisticVersionsRequest();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "CustomTags": value.CustomTags = PlayFabJson.readMap(in, stringAdapter); break;
+                        case "StatisticName": value.StatisticName = PlayFabJson.readString(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class GetPlayerStatisticVersionsResultAdapter extends TypeAdapter<GetPlayerStatisticVersionsResult> {
+        private final TypeAdapter<PlayerStatisticVersion> playerStatisticVersionAdapter;
+
+        private GetPlayerStatisticVersionsResultAdapter(Gson gson) {
+            playerStatisticVersionAdapter = gson.getAdapter(PlayerStatisticVersion.class);
+        }
+
+        @Override
+        public void write(JsonWriter out, GetPlayerStatisticVersionsResult value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            PlayFabJson.writeList(out.name("StatisticVersions"), value.StatisticVersions, playerStatisticVersionAdapter);
+            out.endObject();
+        }
+
+        @Override
+        public GetPlayerStatisticVersionsResult read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            GetPlayerStatisticVersionsResult value = new GetPlayerStatisticVersionsResult();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "StatisticVersions": value.StatisticVersions = PlayFabJson.readList(in, playerStatisticVersionAdapter); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class GetPlayerTagsRequestAdapter extends TypeAdapter<GetPlayerTagsRequest> {
+        private final TypeAdapter<String> stringAdapter;
+
+        private GetPlayerTagsRequestAdapter(Gson gson) {
+            stringAdapter = gson.getAdapter(String.class);
+        }
+
+        @Override
+        public void write(JsonWriter out, GetPlayerTagsRequest value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            PlayFabJson.writeMap(out.name("CustomTags"), value.CustomTags, stringAdapter);
+            out.name("Namespace").value(value.Namespace);
+            out.name("PlayFabId").value(value.PlayFabId);
+            out.endObject();
+        }
+
+        @Override
+        public GetPlayerTagsRequest read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            GetPlayerTagsRequest value = new GetPlayerTagsRequest();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "CustomTags": value.CustomTags = PlayFabJson.readMap(in, stringAdapter); break;
+                        case "Namespace": value.Namespace = PlayFabJson.readString(in); break;
+                        case "PlayFabId": value.PlayFabId = PlayFabJson.readString(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class GetPlayerTagsResultAdapter extends TypeAdapter<GetPlayerTagsResult> {
+        private final TypeAdapter<String> stringAdapter;
+
+        private GetPlayerTagsResultAdapter(Gson gson) {
+            stringAdapter = gson.getAdapter(String.class);
+        }
+
+        @Override
+        public void write(JsonWriter out, GetPlayerTagsResult value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.name("PlayFabId").value(value.PlayFabId);
+            PlayFabJson.writeList(out.name("Tags"), value.Tags, stringAdapter);
+            out.endObject();
+        }
+
+        @Override
+        public GetPlayerTagsResult read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            GetPlayerTagsResult value = new GetPlayerTagsResult();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "PlayFabId": value.PlayFabId = PlayFabJson.readString(in); break;
+                        case "Tags": value.Tags = PlayFabJson.readList(in, stringAdapter); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class GetPlayFabIDsFromFacebookIDsRequestAdapter extends TypeAdapter<GetPlayFabIDsFromFacebookIDsRequest> {
+        private final TypeAdapter<String> stringAdapter;
+
+        private GetPlayFabIDsFromFacebookIDsRequestAdapter(Gson gson) {
+            stringAdapter = gson.getAdapter(String.class);
+        }
+
+        @Override
+        public void write(JsonWriter out, GetPlayFabIDsFromFacebookIDsRequest value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            PlayFabJson.writeList(out.name("FacebookIDs"), value.FacebookIDs, stringAdapter);
+            out.endObject();
+        }
+
+        @Override
+        public GetPlayFabIDsFromFacebookIDsRequest read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            GetPlayFabIDsFromFacebookIDsRequest value = new GetPlayFabIDsFromFacebookIDsRequest();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "FacebookIDs": value.FacebookIDs = PlayFabJson.readList(in, stringAdapter); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class GetPlayFabIDsFromFacebookIDsResultAdapter extends TypeAdapter<GetPlayFabIDsFromFacebookIDsResult> {
+        private final TypeAdapter<FacebookPlayFabIdPair> facebookPlayFabIdPairAdapter;
+
+        private GetPlayFabIDsFromFacebookIDsResultAdapter(Gson gson) {
+            facebookPlayFabIdPairAdapter = gson.getAdapter(FacebookPlayFabIdPair.class);
+        }
+
+        @Override
+        public void write(JsonWriter out, GetPlayFabIDsFromFacebookIDsResult value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            PlayFabJson.writeList(out.name("Data"), value.Data, facebookPlayFabIdPairAdapter);
+            out.endObject();
+        }
+
+        @Override
+        public GetPlayFabIDsFromFacebookIDsResult read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            GetPlayFabIDsFromFacebookIDsResult value = new GetPlayFabIDsFromFacebookIDsResult();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "Data": value.Data = PlayFabJson.readList(in, facebookPlayFabIdPairAdapter); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class GetPlayFabIDsFromFacebookInstantGamesIdsRequestAdapter extends TypeAdapter<GetPlayFabIDsFromFacebookInstantGamesIdsRequest> {
+        private final TypeAdapter<String> stringAdapter;
+
+        private GetPlayFabIDsFromFacebookInstantGamesIdsRequestAdapter(Gson gson) {
+            stringAdapter = gson.getAdapter(String.class);
+        }
+
+        @Override
+        public void write(JsonWriter out, GetPlayFabIDsFromFacebookInstantGamesIdsRequest value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            PlayFabJson.writeList(out.name("FacebookInstantGamesIds"), value.FacebookInstantGamesIds, stringAdapter);
+            out.endObject();
+        }
+
+        @Override
+        public GetPlayFabIDsFromFacebookInstantGamesIdsRequest read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            GetPlayFabIDsFromFacebookInstantGamesIdsRequest value = new GetPlayFabIDsFromFacebookInstantGamesIdsRequest();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "FacebookInstantGamesIds": value.FacebookInstantGamesIds = PlayFabJson.readList(in, stringAdapter); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class GetPlayFabIDsFromFacebookInstantGamesIdsResultAdapter extends TypeAdapter<GetPlayFabIDsFromFacebookInstantGamesIdsResult> {
+        private final TypeAdapter<FacebookInstantGamesPlayFabIdPair> facebookInstantGamesPlayFabIdPairAdapter;
+
+        private GetPlayFabIDsFromFacebookInstantGamesIdsResultAdapter(Gson gson) {
+            facebookInstantGamesPlayFabIdPairAdapter = gson.getAdapter(FacebookInstantGamesPlayFabIdPair.class);
+        }
+
+        @Override
+        public void write(JsonWriter out, GetPlayFabIDsFromFacebookInstantGamesIdsResult value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            PlayFabJson.writeList(out.name("Data"), value.Data, facebookInstantGamesPlayFabIdPairAdapter);
+            out.endObject();
+        }
+
+        @Override
+        public GetPlayFabIDsFromFacebookInstantGamesIdsResult read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            GetPlayFabIDsFromFacebookInstantGamesIdsResult value = new GetPlayFabIDsFromFacebookInstantGamesIdsResult();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "Data": value.Data = PlayFabJson.readList(in, facebookInstantGamesPlayFabIdPairAdapter); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class GetPlayFabIDsFromGenericIDsRequestAdapter extends TypeAdapter<GetPlayFabIDsFromGenericIDsRequest> {
+        private final TypeAdapter<GenericServiceId> genericServiceIdAdapter;
+
+        private GetPlayFabIDsFromGenericIDsRequestAdapter(Gson gson) {
+            genericServiceIdAdapter = gson.getAdapter(GenericServiceId.class);
+        }
+
+        @Override
+        public void write(JsonWriter out, GetPlayFabIDsFromGenericIDsRequest value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            PlayFabJson.writeList(out.name("GenericIDs"), value.GenericIDs, genericServiceIdAdapter);
+            out.endObject();
+        }
+
+        @Override
+        public GetPlayFabIDsFromGenericIDsRequest read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            GetPlayFabIDsFromGenericIDsRequest value = new GetPlayFabIDsFromGenericIDsRequest();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "GenericIDs": value.GenericIDs = PlayFabJson.readList(in, genericServiceIdAdapter); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class GetPlayFabIDsFromGenericIDsResultAdapter extends TypeAdapter<GetPlayFabIDsFromGenericIDsResult> {
+        private final TypeAdapter<GenericPlayFabIdPair> genericPlayFabIdPairAdapter;
+
+        private GetPlayFabIDsFromGenericIDsResultAdapter(Gson gson) {
+            genericPlayFabIdPairAdapter = gson.getAdapter(GenericPlayFabIdPair.class);
+        }
+
+        @Override
+        public void write(JsonWriter out, GetPlayFabIDsFromGenericIDsResult value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            PlayFabJson.writeList(out.name("Data"), value.Data, genericPlayFabIdPairAdapter);
+            out.endObject();
+        }
+
+        @Override
+        public GetPlayFabIDsFromGenericIDsResult read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            GetPlayFabIDsFromGenericIDsResult value = new GetPlayFabIDsFromGenericIDsResult();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "Data": value.Data = PlayFabJson.readList(in, genericPlayFabIdPairAdapter); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class GetPlayFabIDsFromNintendoSwitchDeviceIdsRequestAdapter extends TypeAdapter<GetPlayFabIDsFromNintendoSwitchDeviceIdsRequest> {
+        private final TypeAdapter<String> stringAdapter;
+
+        private GetPlayFabIDsFromNintendoSwitchDeviceIdsRequestAdapter(Gson gson) {
+            stringAdapter = gson.getAdapter(String.class);
+        }
+
+        @Override
+        public void write(JsonWriter out, GetPlayFabIDsFromNintendoSwitchDeviceIdsRequest value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            PlayFabJson.writeList(out.name("NintendoSwitchDeviceIds"), value.NintendoSwitchDeviceIds, stringAdapter);
+            out.endObject();
+        }
+
+        @Override
+        public GetPlayFabIDsFromNintendoSwitchDeviceIdsRequest read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            GetPlayFabIDsFromNintendoSwitchDeviceIdsRequest value = new GetPlayFabIDsFromNintendoSwitchDeviceIdsRequest();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "NintendoSwitchDeviceIds": value.NintendoSwitchDeviceIds = PlayFabJson.readList(in, stringAdapter); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class GetPlayFabIDsFromNintendoSwitchDeviceIdsResultAdapter extends TypeAdapter<GetPlayFabIDsFromNintendoSwitchDeviceIdsResult> {
+        private final TypeAdapter<NintendoSwitchPlayFabIdPair> nintendoSwitchPlayFabIdPairAdapter;
+
+        private GetPlayFabIDsFromNintendoSwitchDeviceIdsResultAdapter(Gson gson) {
+            nintendoSwitchPlayFabIdPairAdapter = gson.getAdapter(NintendoSwitchPlayFabIdPair.class);
+        }
+
+        @Override
+        public void write(JsonWriter out, GetPlayFabIDsFromNintendoSwitchDeviceIdsResult value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            PlayFabJson.writeList(out.name("Data"), value.Data, nintendoSwitchPlayFabIdPairAdapter);
+            out.endObject();
+        }
+
+        @Override
+        public GetPlayFabIDsFromNintendoSwitchDeviceIdsResult read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            GetPlayFabIDsFromNintendoSwitchDeviceIdsResult value = new GetPlayFabIDsFromNintendoSwitchDeviceIdsResult();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "Data": value.Data = PlayFabJson.readList(in, nintendoSwitchPlayFabIdPairAdapter); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class GetPlayFabIDsFromPSNAccountIDsRequestAdapter extends TypeAdapter<GetPlayFabIDsFromPSNAccountIDsRequest> {
+        private final TypeAdapter<String> stringAdapter;
+
+        private GetPlayFabIDsFromPSNAccountIDsRequestAdapter(Gson gson) {
+            stringAdapter = gson.getAdapter(String.class);
+        }
+
+        @Override
+        public void write(JsonWriter out, GetPlayFabIDsFromPSNAccountIDsRequest value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.name("IssuerId").value(value.IssuerId);
+            PlayFabJson.writeList(out.name("PSNAccountIDs"), value.PSNAccountIDs, stringAdapter);
+            out.endObject();
+        }
+
+        @Override
+        public GetPlayFabIDsFromPSNAccountIDsRequest read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            GetPlayFabIDsFromPSNAccountIDsRequest value = new GetPlayFabIDsFromPSNAccountIDsRequest();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "IssuerId": value.IssuerId = PlayFabJson.readInteger(in); break;
+                        case "PSNAccountIDs": value.PSNAccountIDs = PlayFabJson.readList(in, stringAdapter); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class GetPlayFabIDsFromPSNAccountIDsResultAdapter extends TypeAdapter<GetPlayFabIDsFromPSNAccountIDsResult> {
+        private final TypeAdapter<PSNAccountPlayFabIdPair> pSNAccountPlayFabIdPairAdapter;
+
+        private GetPlayFabIDsFromPSNAccountIDsResultAdapter(Gson gson) {
+            pSNAccountPlayFabIdPairAdapter = gson.getAdapter(PSNAccountPlayFabIdPair.class);
+        }
+
+        @Override
+        public void write(JsonWriter out, GetPlayFabIDsFromPSNAccountIDsResult value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            PlayFabJson.writeList(out.name("Data"), value.Data, pSNAccountPlayFabIdPairAdapter);
+            out.endObject();
+        }
+
+        @Override
+        public GetPlayFabIDsFromPSNAccountIDsResult read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            GetPlayFabIDsFromPSNAccountIDsResult value = new GetPlayFabIDsFromPSNAccountIDsResult();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "Data": value.Data = PlayFabJson.readList(in, pSNAccountPlayFabIdPairAdapter); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class GetPlayFabIDsFromSteamIDsRequestAdapter extends TypeAdapter<GetPlayFabIDsFromSteamIDsRequest> {
+        private final TypeAdapter<String> stringAdapter;
+
+        private GetPlayFabIDsFromSteamIDsRequestAdapter(Gson gson) {
+            stringAdapter = gson.getAdapter(String.class);
+        }
+
+        @Override
+        public void write(JsonWriter out, GetPlayFabIDsFromSteamIDsRequest value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            PlayFabJson.writeList(out.name("SteamStringIDs"), value.SteamStringIDs, stringAdapter);
+            out.endObject();
+        }
+
+        @Override
+        public GetPlayFabIDsFromSteamIDsRequest read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            GetPlayFabIDsFromSteamIDsRequest value = new GetPlayFabIDsFromSteamIDsRequest();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "SteamStringIDs": value.SteamStringIDs = PlayFabJson.readList(in, stringAdapter); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class GetPlayFabIDsFromSteamIDsResultAdapter extends TypeAdapter<GetPlayFabIDsFromSteamIDsResult> {
+        private final TypeAdapter<SteamPlayFabIdPair> steamPlayFabIdPairAdapter;
+
+        private GetPlayFabIDsFromSteamIDsResultAdapter(Gson gson) {
+            steamPlayFabIdPairAdapter = gson.getAdapter(SteamPlayFabIdPair.class);
+        }
+
+        @Override
+        public void write(JsonWriter out, GetPlayFabIDsFromSteamIDsResult value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            PlayFabJson.writeList(out.name("Data"), value.Data, steamPlayFabIdPairAdapter);
+            out.endObject();
+        }
+
+        @Override
+        public GetPlayFabIDsFromSteamIDsResult read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            GetPlayFabIDsFromSteamIDsResult value = new GetPlayFabIDsFromSteamIDsResult();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "Data": value.Data = PlayFabJson.readList(in, steamPlayFabIdPairAdapter); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class GetPlayFabIDsFromXboxLiveIDsRequestAdapter extends TypeAdapter<GetPlayFabIDsFromXboxLiveIDsRequest> {
+        private final TypeAdapter<String> stringAdapter;
+
+        private GetPlayFabIDsFromXboxLiveIDsRequestAdapter(Gson gson) {
+            stringAdapter = gson.getAdapter(String.class);
+        }
+
+        @Override
+        public void write(JsonWriter out, GetPlayFabIDsFromXboxLiveIDsRequest value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.name("Sandbox").value(value.Sandbox);
+            PlayFabJson.writeList(out.name("XboxLiveAccountIDs"), value.XboxLiveAccountIDs, stringAdapter);
+            out.endObject();
+        }
+
+        @Override
+        public GetPlayFabIDsFromXboxLiveIDsRequest read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            GetPlayFabIDsFromXboxLiveIDsRequest value = new GetPlayFabIDsFromXboxLiveIDsRequest();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "Sandbox": value.Sandbox = PlayFabJson.readString(in); break;
+                        case "XboxLiveAccountIDs": value.XboxLiveAccountIDs = PlayFabJson.readList(in, stringAdapter); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class GetPlayFabIDsFromXboxLiveIDsResultAdapter extends TypeAdapter<GetPlayFabIDsFromXboxLiveIDsResult> {
+        private final TypeAdapter<XboxLiveAccountPlayFabIdPair> xboxLiveAccountPlayFabIdPairAdapter;
+
+        private GetPlayFabIDsFromXboxLiveIDsResultAdapter(Gson gson) {
+            xboxLiveAccountPlayFabIdPairAdapter = gson.getAdapter(XboxLiveAccountPlayFabIdPair.class);
+        }
+
+        @Override
+        public void write(JsonWriter out, GetPlayFabIDsFromXboxLiveIDsResult value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            PlayFabJson.writeList(out.name("Data"), value.Data, xboxLiveAccountPlayFabIdPairAdapter);
+            out.endObject();
+        }
+
+        @Override
+        public GetPlayFabIDsFromXboxLiveIDsResult read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            GetPlayFabIDsFromXboxLiveIDsResult value = new GetPlayFabIDsFromXboxLiveIDsResult();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "Data": value.Data = PlayFabJson.readList(in, xboxLiveAccountPlayFabIdPairAdapter); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class GetPublisherDataRequestAdapter extends TypeAdapter<GetPublisherDataRequest> {
+        private final TypeAdapter<String> stringAdapter;
+
+        private GetPublisherDataRequestAdapter(Gson gson) {
+            stringAdapter = gson.getAdapter(String.class);
+        }
+
+        @Override
+        public void write(JsonWriter out, GetPublisherDataRequest value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            PlayFabJson.writeList(out.name("Keys"), value.Keys, stringAdapter);
+            out.endObject();
+        }
+
+        @Override
+        public GetPublisherDataRequest read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            GetPublisherDataRequest value = new GetPublisherDataRequest();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "Keys": value.Keys = PlayFabJson.readList(in, stringAdapter); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class GetPublisherDataResultAdapter extends TypeAdapter<GetPublisherDataResult> {
+        private final TypeAdapter<String> stringAdapter;
+
+        private GetPublisherDataResultAdapter(Gson gson) {
+            stringAdapter = gson.getAdapter(String.class);
+        }
+
+        @Override
+        public void write(JsonWriter out, GetPublisherDataResult value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            PlayFabJson.writeMap(out.name("Data"), value.Data, stringAdapter);
+            out.endObject();
+        }
+
+        @Override
+        public GetPublisherDataResult read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            GetPublisherDataResult value = new GetPublisherDataResult();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "Data": value.Data = PlayFabJson.readMap(in, stringAdapter); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class GetRandomResultTablesRequestAdapter extends TypeAdapter<GetRandomResultTablesRequest> {
+        private final TypeAdapter<String> stringAdapter;
+
+        private GetRandomResultTablesRequestAdapter(Gson gson) {
+            stringAdapter = gson.getAdapter(String.class);
+        }
+
+        @Override
+        public void write(JsonWriter out, GetRandomResultTablesRequest value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.name("CatalogVersion").value(value.CatalogVersion);
+            PlayFabJson.writeList(out.name("TableIDs"), value.TableIDs, stringAdapter);
+            out.endObject();
+        }
+
+        @Override
+        public GetRandomResultTablesRequest read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            GetRandomResultTablesRequest value = new GetRandomResultTablesRequest();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "CatalogVersion": value.CatalogVersion = PlayFabJson.readString(in); break;
+                        case "TableIDs": value.TableIDs = PlayFabJson.readList(in, stringAdapter); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class GetRandomResultTablesResultAdapter extends TypeAdapter<GetRandomResultTablesResult> {
+        private final TypeAdapter<RandomResultTableListing> randomResultTableListingAdapter;
+
+        private GetRandomResultTablesResultAdapter(Gson gson) {
+            randomResultTableListingAdapter = gson.getAdapter(RandomResultTableListing.class);
+        }
+
+        @Override
+        public void write(JsonWriter out, GetRandomResultTablesResult value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            PlayFabJson.writeMap(out.name("Tables"), value.Tables, randomResultTableListingAdapter);
+            out.endObject();
+        }
+
+        @Override
+        public GetRandomResultTablesResult read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            GetRandomResultTablesResult value = new GetRandomResultTablesResult();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "Tables": value.Tables = PlayFabJson.readMap(in, randomResultTableListingAdapter); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class GetSegmentResultAdapter extends TypeAdapter<GetSegmentResult> {
+        private GetSegmentResultAdapter(Gson gson) {
+        }
+
+        @Override
+        public void write(JsonWriter out, GetSegmentResult value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.name("ABTestParent").value(value.ABTestParent);
+            out.name("Id").value(value.Id);
+            out.name("Name").value(value.Name);
+            out.endObject();
+        }
+
+        @Override
+        public GetSegmentResult read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            GetSegmentResult value = new GetSegmentResult();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "ABTestParent": value.ABTestParent = PlayFabJson.readString(in); break;
+                        case "Id": value.Id = PlayFabJson.readString(in); break;
+                        case "Name": value.Name = PlayFabJson.readString(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class GetServerCustomIDsFromPlayFabIDsRequestAdapter extends TypeAdapter<GetServerCustomIDsFromPlayFabIDsRequest> {
+        private final TypeAdapter<String> stringAdapter;
+
+        private GetServerCustomIDsFromPlayFabIDsRequestAdapter(Gson gson) {
+            stringAdapter = gson.getAdapter(String.class);
+        }
+
+        @Override
+        public void write(JsonWriter out, GetServerCustomIDsFromPlayFabIDsRequest value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            PlayFabJson.writeList(out.name("PlayFabIDs"), value.PlayFabIDs, stringAdapter);
+            out.endObject();
+        }
+
+        @Override
+        public GetServerCustomIDsFromPlayFabIDsRequest read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            GetServerCustomIDsFromPlayFabIDsRequest value = new GetServerCustomIDsFromPlayFabIDsRequest();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "PlayFabIDs": value.PlayFabIDs = PlayFabJson.readList(in, stringAdapter); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class GetServerCustomIDsFromPlayFabIDsResultAdapter extends TypeAdapter<GetServerCustomIDsFromPlayFabIDsResult> {
+        private final TypeAdapter<ServerCustomIDPlayFabIDPair> serverCustomIDPlayFabIDPairAdapter;
+
+        private GetServerCustomIDsFromPlayFabIDsResultAdapter(Gson gson) {
+            serverCustomIDPlayFabIDPairAdapter = gson.getAdapter(ServerCustomIDPlayFabIDPair.class);
+        }
+
+        @Override
+        public void write(JsonWriter out, GetServerCustomIDsFromPlayFabIDsResult value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            PlayFabJson.writeList(out.name("Data"), value.Data, serverCustomIDPlayFabIDPairAdapter);
+            out.endObject();
+        }
+
+        @Override
+        public GetServerCustomIDsFromPlayFabIDsResult read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            GetServerCustomIDsFromPlayFabIDsResult value = new GetServerCustomIDsFromPlayFabIDsResult();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "Data": value.Data = PlayFabJson.readList(in, serverCustomIDPlayFabIDPairAdapter); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class GetSharedGroupDataRequestAdapter extends TypeAdapter<GetSharedGroupDataRequest> {
+        private final TypeAdapter<String> stringAdapter;
+
+        private GetSharedGroupDataRequestAdapter(Gson gson) {
+            stringAdapter = gson.getAdapter(String.class);
+        }
+
+        @Override
+        public void write(JsonWriter out, GetSharedGroupDataRequest value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.name("GetMembers").value(value.GetMembers);
+            PlayFabJson.writeList(out.name("Keys"), value.Keys, stringAdapter);
+            out.name("SharedGroupId").value(value.SharedGroupId);
+            out.endObject();
+        }
+
+        @Override
+        public GetSharedGroupDataRequest read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            GetSharedGroupDataRequest value = new GetSharedGroupDataRequest();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "GetMembers": value.GetMembers = PlayFabJson.readBoolean(in); break;
+                        case "Keys": value.Keys = PlayFabJson.readList(in, stringAdapter); break;
+                        case "SharedGroupId": value.SharedGroupId = PlayFabJson.readString(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class GetSharedGroupDataResultAdapter extends TypeAdapter<GetSharedGroupDataResult> {
+        private final TypeAdapter<SharedGroupDataRecord> sharedGroupDataRecordAdapter;
+        private final TypeAdapter<String> stringAdapter;
+
+        private GetSharedGroupDataResultAdapter(Gson gson) {
+            sharedGroupDataRecordAdapter = gson.getAdapter(SharedGroupDataRecord.class);
+            stringAdapter = gson.getAdapter(String.class);
+        }
+
+        @Override
+        public void write(JsonWriter out, GetSharedGroupDataResult value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            PlayFabJson.writeMap(out.name("Data"), value.Data, sharedGroupDataRecordAdapter);
+            PlayFabJson.writeList(out.name("Members"), value.Members, stringAdapter);
+            out.endObject();
+        }
+
+        @Override
+        public GetSharedGroupDataResult read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            GetSharedGroupDataResult value = new GetSharedGroupDataResult();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "Data": value.Data = PlayFabJson.readMap(in, sharedGroupDataRecordAdapter); break;
+                        case "Members": value.Members = PlayFabJson.readList(in, stringAdapter); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class GetStoreItemsResultAdapter extends TypeAdapter<GetStoreItemsResult> {
+        private final TypeAdapter<StoreMarketingModel> storeMarketingModelAdapter;
+        private final TypeAdapter<SourceType> sourceTypeAdapter;
+        private final TypeAdapter<StoreItem> storeItemAdapter;
+
+        private GetStoreItemsResultAdapter(Gson gson) {
+            storeMarketingModelAdapter = gson.getAdapter(StoreMarketingModel.class);
+            sourceTypeAdapter = gson.getAdapter(SourceType.class);
+            storeItemAdapter = gson.getAdapter(StoreItem.class);
+        }
+
+        @Override
+        public void write(JsonWriter out, GetStoreItemsResult value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.name("CatalogVersion").value(value.CatalogVersion);
+            storeMarketingModelAdapter.write(out.name("MarketingData"), value.MarketingData);
+            sourceTypeAdapter.write(out.name("Source"), value.Source);
+            PlayFabJson.writeList(out.name("Store"), value.Store, storeItemAdapter);
+            out.name("StoreId").value(value.StoreId);
+            out.endObject();
+        }
+
+        @Override
+        public GetStoreItemsResult read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            GetStoreItemsResult value = new GetStoreItemsResult();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "CatalogVersion": value.CatalogVersion = PlayFabJson.readString(in); break;
+                        case "MarketingData": value.MarketingData = storeMarketingModelAdapter.read(in); break;
+                        case "Source": value.Source = sourceTypeAdapter.read(in); break;
+                        case "Store": value.Store = PlayFabJson.readList(in, storeItemAdapter); break;
+                        case "StoreId": value.StoreId = PlayFabJson.readString(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class GetStoreItemsServerRequestAdapter extends TypeAdapter<GetStoreItemsServerRequest> {
+        private final TypeAdapter<String> stringAdapter;
+
+        private GetStoreItemsServerRequestAdapter(Gson gson) {
+            stringAdapter = gson.getAdapter(String.class);
+        }
+
+        @Override
+        public void write(JsonWriter out, GetStoreItemsServerRequest value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.name("CatalogVersion").value(value.CatalogVersion);
+            PlayFabJson.writeMap(out.name("CustomTags"), value.CustomTags, stringAdapter);
+            out.name("PlayFabId").value(value.PlayFabId);
+            out.name("StoreId").value(value.StoreId);
+            out.endObject();
+        }
+
+        @Override
+        public GetStoreItemsServerRequest read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            GetStoreItemsServerRequest value = new GetStoreItemsServerRequest();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "CatalogVersion": value.CatalogVersion = PlayFabJson.readString(in); break;
+                        case "CustomTags": value.CustomTags = PlayFabJson.readMap(in, stringAdapter); break;
+                        case "PlayFabId": value.PlayFabId = PlayFabJson.readString(in); break;
+                        case "StoreId": value.StoreId = PlayFabJson.readString(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class GetTimeRequestAdapter extends TypeAdapter<GetTimeRequest> {
+        private GetTimeRequestAdapter(Gson gson) {
+        }
+
+        @Override
+        public void write(JsonWriter out, GetTimeRequest value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.endObject();
+        }
+
+        @Override
+        public GetTimeRequest read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            GetTimeRequest value = new GetTimeRequest();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class GetTimeResultAdapter extends TypeAdapter<GetTimeResult> {
+        private final TypeAdapter<Date> dateAdapter;
+
+        private GetTimeResultAdapter(Gson gson) {
+            dateAdapter = gson.getAdapter(Date.class);
+        }
+
+        @Override
+        public void write(JsonWriter out, GetTimeResult value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            dateAdapter.write(out.name("Time"), value.Time);
+            out.endObject();
+        }
+
+        @Override
+        public GetTimeResult read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            GetTimeResult value = new GetTimeResult();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "Time": value.Time = dateAdapter.read(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class GetTitleDataRequestAdapter extends TypeAdapter<GetTitleDataRequest> {
+        private final TypeAdapter<String> stringAdapter;
+
+        private GetTitleDataRequestAdapter(Gson gson) {
+            stringAdapter = gson.getAdapter(String.class);
+        }
+
+        @Override
+        public void write(JsonWriter out, GetTitleDataRequest value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            PlayFabJson.writeList(out.name("Keys"), value.Keys, stringAdapter);
+            out.name("OverrideLabel").value(value.OverrideLabel);
+            out.endObject();
+        }
+
+        @Override
+        public GetTitleDataRequest read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            GetTitleDataRequest value = new GetTitleDataRequest();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "Keys": value.Keys = PlayFabJson.readList(in, stringAdapter); break;
+                        case "OverrideLabel": value.OverrideLabel = PlayFabJson.readString(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class GetTitleDataResultAdapter extends TypeAdapter<GetTitleDataResult> {
+        private final TypeAdapter<String> stringAdapter;
+
+        private GetTitleDataResultAdapter(Gson gson) {
+            stringAdapter = gson.getAdapter(String.class);
+        }
+
+        @Override
+        public void write(JsonWriter out, GetTitleDataResult value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            PlayFabJson.writeMap(out.name("Data"), value.Data, stringAdapter);
+            out.endObject();
+        }
+
+        @Override
+        public GetTitleDataResult read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            GetTitleDataResult value = new GetTitleDataResult();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "Data": value.Data = PlayFabJson.readMap(in, stringAdapter); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class GetTitleNewsRequestAdapter extends TypeAdapter<GetTitleNewsRequest> {
+        private GetTitleNewsRequestAdapter(Gson gson) {
+        }
+
+        @Override
+        public void write(JsonWriter out, GetTitleNewsRequest value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.name("Count").value(value.Count);
+            out.endObject();
+        }
+
+        @Override
+        public GetTitleNewsRequest read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            GetTitleNewsRequest value = new GetTitleNewsRequest();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "Count": value.Count = PlayFabJson.readInteger(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class GetTitleNewsResultAdapter extends TypeAdapter<GetTitleNewsResult> {
+        private final TypeAdapter<TitleNewsItem> titleNewsItemAdapter;
+
+        private GetTitleNewsResultAdapter(Gson gson) {
+            titleNewsItemAdapter = gson.getAdapter(TitleNewsItem.class);
+        }
+
+        @Override
+        public void write(JsonWriter out, GetTitleNewsResult value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            PlayFabJson.writeList(out.name("News"), value.News, titleNewsItemAdapter);
+            out.endObject();
+        }
+
+        @Override
+        public GetTitleNewsResult read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            GetTitleNewsResult value = new GetTitleNewsResult();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "News": value.News = PlayFabJson.readList(in, titleNewsItemAdapter); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class GetUserAccountInfoRequestAdapter extends TypeAdapter<GetUserAccountInfoRequest> {
+        private GetUserAccountInfoRequestAdapter(Gson gson) {
+        }
+
+        @Override
+        public void write(JsonWriter out, GetUserAccountInfoRequest value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.name("PlayFabId").value(value.PlayFabId);
+            out.endObject();
+        }
+
+        @Override
+        public GetUserAccountInfoRequest read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            GetUserAccountInfoRequest value = new GetUserAccountInfoRequest();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "PlayFabId": value.PlayFabId = PlayFabJson.readString(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class GetUserAccountInfoResultAdapter extends TypeAdapter<GetUserAccountInfoResult> {
+        private final TypeAdapter<UserAccountInfo> userAccountInfoAdapter;
+
+        private GetUserAccountInfoResultAdapter(Gson gson) {
+            userAccountInfoAdapter = gson.getAdapter(UserAccountInfo.class);
+        }
+
+        @Override
+        public void write(JsonWriter out, GetUserAccountInfoResult value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            userAccountInfoAdapter.write(out.name("UserInfo"), value.UserInfo);
+            out.endObject();
+        }
+
+        @Override
+        public GetUserAccountInfoResult read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            GetUserAccountInfoResult value = new GetUserAccountInfoResult();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "UserInfo": value.UserInfo = userAccountInfoAdapter.read(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class GetUserBansRequestAdapter extends TypeAdapter<GetUserBansRequest> {
+        private GetUserBansRequestAdapter(Gson gson) {
+        }
+
+        @Override
+        public void write(JsonWriter out, GetUserBansRequest value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.name("PlayFabId").value(value.PlayFabId);
+            out.endObject();
+        }
+
+        @Override
+        public GetUserBansRequest read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            GetUserBansRequest value = new GetUserBansRequest();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "PlayFabId": value.PlayFabId = PlayFabJson.readString(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class GetUserBansResultAdapter extends TypeAdapter<GetUserBansResult> {
+        private final TypeAdapter<BanInfo> banInfoAdapter;
+
+        private GetUserBansResultAdapter(Gson gson) {
+            banInfoAdapter = gson.getAdapter(BanInfo.class);
+        }
+
+        @Override
+        public void write(JsonWriter out, GetUserBansResult value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            PlayFabJson.writeList(out.name("BanData"), value.BanData, banInfoAdapter);
+            out.endObject();
+        }
+
+        @Override
+        public GetUserBansResult read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            GetUserBansResult value = new GetUserBansResult();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "BanData": value.BanData = PlayFabJson.readList(in, banInfoAdapter); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class GetUserDataRequestAdapter extends TypeAdapter<GetUserDataRequest> {
+        private final TypeAdapter<String> stringAdapter;
+
+        private GetUserDataRequestAdapter(Gson gson) {
+            stringAdapter = gson.getAdapter(String.class);
+        }
+
+        @Override
+        public void write(JsonWriter out, GetUserDataRequest value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.name("IfChangedFromDataVersion").value(value.IfChangedFromDataVersion);
+            PlayFabJson.writeList(out.name("Keys"), value.Keys, stringAdapter);
+            out.name("PlayFabId").value(value.PlayFabId);
+            out.endObject();
+        }
+
+        @Override
+        public GetUserDataRequest read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            GetUserDataRequest value = new GetUserDataRequest();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "IfChangedFromDataVersion": value.IfChangedFromDataVersion = PlayFabJson.readLong(in); break;
+                        case "Keys": value.Keys = PlayFabJson.readList(in, stringAdapter); break;
+                        case "PlayFabId": value.PlayFabId = PlayFabJson.readString(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class GetUserDataResultAdapter extends TypeAdapter<GetUserDataResult> {
+        private final TypeAdapter<UserDataRecord> userDataRecordAdapter;
+
+        private GetUserDataResultAdapter(Gson gson) {
+            userDataRecordAdapter = gson.getAdapter(UserDataRecord.class);
+        }
+
+        @Override
+        public void write(JsonWriter out, GetUserDataResult value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            PlayFabJson.writeMap(out.name("Data"), value.Data, userDataRecordAdapter);
+            out.name("DataVersion").value(value.DataVersion);
+            out.name("PlayFabId").value(value.PlayFabId);
+            out.endObject();
+        }
+
+        @Override
+        public GetUserDataResult read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            GetUserDataResult value = new GetUserDataResult();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "Data": value.Data = PlayFabJson.readMap(in, userDataRecordAdapter); break;
+                        case "DataVersion": value.DataVersion = PlayFabJson.readLong(in); break;
+                        case "PlayFabId": value.PlayFabId = PlayFabJson.readString(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class GetUserInventoryRequestAdapter extends TypeAdapter<GetUserInventoryRequest> {
+        private final TypeAdapter<String> stringAdapter;
+
+        private GetUserInventoryRequestAdapter(Gson gson) {
+            stringAdapter = gson.getAdapter(String.class);
+        }
+
+        @Override
+        public void write(JsonWriter out, GetUserInventoryRequest value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            PlayFabJson.writeMap(out.name("CustomTags"), value.CustomTags, stringAdapter);
+            out.name("PlayFabId").value(value.PlayFabId);
+            out.endObject();
+        }
+
+        @Override
+        public GetUserInventoryRequest read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            GetUserInventoryRequest value = new GetUserInventoryRequest();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "CustomTags": value.CustomTags = PlayFabJson.readMap(in, stringAdapter); break;
+                        case "PlayFabId": value.PlayFabId = PlayFabJson.readString(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class GetUserInventoryResultAdapter extends TypeAdapter<GetUserInventoryResult> {
+        private final TypeAdapter<ItemInstance> itemInstanceAdapter;
+        private final TypeAdapter<Integer> integerAdapter;
+        private final TypeAdapter<VirtualCurrencyRechargeTime> virtualCurrencyRechargeTimeAdapter;
+
+        private GetUserInventoryResultAdapter(Gson gson) {
+            itemInstanceAdapter = gson.getAdapter(ItemInstance.class);
+            integerAdapter = gson.getAdapter(Integer.class);
+            virtualCurrencyRechargeTimeAdapter = gson.getAdapter(VirtualCurrencyRechargeTime.class);
+        }
+
+        @Override
+        public void write(JsonWriter out, GetUserInventoryResult value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            PlayFabJson.writeList(out.name("Inventory"), value.Inventory, itemInstanceAdapter);
+            out.name("PlayFabId").value(value.PlayFabId);
+            PlayFabJson.writeMap(out.name("VirtualCurrency"), value.VirtualCurrency, integerAdapter);
+            PlayFabJson.writeMap(out.name("VirtualCurrencyRechargeTimes"), value.VirtualCurrencyRechargeTimes, virtualCurrencyRechargeTimeAdapter);
+            out.endObject();
+        }
+
+        @Override
+        public GetUserInventoryResult read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            GetUserInventoryResult value = new GetUserInventoryResult();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "Inventory": value.Inventory = PlayFabJson.readList(in, itemInstanceAdapter); break;
+                        case "PlayFabId": value.PlayFabId = PlayFabJson.readString(in); break;
+                        case "VirtualCurrency": value.VirtualCurrency = PlayFabJson.readMap(in, integerAdapter); break;
+                        case "VirtualCurrencyRechargeTimes": value.VirtualCurrencyRechargeTimes = PlayFabJson.readMap(in, virtualCurrencyRechargeTimeAdapter); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class GrantCharacterToUserRequestAdapter extends TypeAdapter<GrantCharacterToUserRequest> {
+        private final TypeAdapter<String> stringAdapter;
+
+        private GrantCharacterToUserRequestAdapter(Gson gson) {
+            stringAdapter = gson.getAdapter(String.class);
+        }
+
+        @Override
+        public void write(JsonWriter out, GrantCharacterToUserRequest value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.name("CharacterName").value(value.CharacterName);
+            out.name("CharacterType").value(value.CharacterType);
+            PlayFabJson.writeMap(out.name("CustomTags"), value.CustomTags, stringAdapter);
+            out.name("PlayFabId").value(value.PlayFabId);
+            out.endObject();
+        }
+
+        @Override
+        public GrantCharacterToUserRequest read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            GrantCharacterToUserRequest value = new GrantCharacterToUserRequest();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "CharacterName": value.CharacterName = PlayFabJson.readString(in); break;
+                        case "CharacterType": value.CharacterType = PlayFabJson.readString(in); break;
+                        case "CustomTags": value.CustomTags = PlayFabJson.readMap(in, stringAdapter); break;
+                        case "PlayFabId": value.PlayFabId = PlayFabJson.readString(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class GrantCharacterToUserResultAdapter extends TypeAdapter<GrantCharacterToUserResult> {
+        private GrantCharacterToUserResultAdapter(Gson gson) {
+        }
+
+        @Override
+        public void write(JsonWriter out, GrantCharacterToUserResult value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.name("CharacterId").value(value.CharacterId);
+            out.endObject();
+        }
+
+        @Override
+        public GrantCharacterToUserResult read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            GrantCharacterToUserResult value = new GrantCharacterToUserResult();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "CharacterId": value.CharacterId = PlayFabJson.readString(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class GrantedItemInstanceAdapter extends TypeAdapter<GrantedItemInstance> {
+        private final TypeAdapter<String> stringAdapter;
+        private final TypeAdapter<Date> dateAdapter;
+
+        private GrantedItemInstanceAdapter(Gson gson) {
+            stringAdapter = gson.getAdapter(String.class);
+            dateAdapter = gson.getAdapter(Date.class);
+        }
+
+        @Override
+        public void write(JsonWriter out, GrantedItemInstance value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.name("Annotation").value(value.Annotation);
+            PlayFabJson.writeList(out.name("BundleContents"), value.BundleContents, stringAdapter);
+            out.name("BundleParent").value(value.BundleParent);
+            out.name("CatalogVersion").value(value.CatalogVersion);
+            out.name("CharacterId").value(value.CharacterId);
+            PlayFabJson.writeMap(out.name("CustomData"), value.CustomData, stringAdapter);
+            out.name("DisplayName").value(value.DisplayName);
+            dateAdapter.write(out.name("Expiration"), value.Expiration);
+            out.name("ItemClass").value(value.ItemClass);
+            out.name("ItemId").value(value.ItemId);
+            out.name("ItemInstanceId").value(value.ItemInstanceId);
+            out.name("PlayFabId").value(value.PlayFabId);
+            dateAdapter.write(out.name("PurchaseDate"), value.PurchaseDate);
+            out.name("RemainingUses").value(value.RemainingUses);
+            out.name("Result").value(value.Result);
+            out.name("UnitCurrency").value(value.UnitCurrency);
+            out.name("UnitPrice").value(value.UnitPrice);
+            out.name("UsesIncrementedBy").value(value.UsesIncrementedBy);
+            out.endObject();
+        }
+
+        @Override
+        public GrantedItemInstance read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            GrantedItemInstance value = new GrantedItemInstance();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "Annotation": value.Annotation = PlayFabJson.readString(in); break;
+                        case "BundleContents": value.BundleContents = PlayFabJson.readList(in, stringAdapter); break;
+                        case "BundleParent": value.BundleParent = PlayFabJson.readString(in); break;
+                        case "CatalogVersion": value.CatalogVersion = PlayFabJson.readString(in); break;
+                        case "CharacterId": value.CharacterId = PlayFabJson.readString(in); break;
+                        case "CustomData": value.CustomData = PlayFabJson.readMap(in, stringAdapter); break;
+                        case "DisplayName": value.DisplayName = PlayFabJson.readString(in); break;
+                        case "Expiration": value.Expiration = dateAdapter.read(in); break;
+                        case "ItemClass": value.ItemClass = PlayFabJson.readString(in); break;
+                        case "ItemId": value.ItemId = PlayFabJson.readString(in); break;
+                        case "ItemInstanceId": value.ItemInstanceId = PlayFabJson.readString(in); break;
+                        case "PlayFabId": value.PlayFabId = PlayFabJson.readString(in); break;
+                        case "PurchaseDate": value.PurchaseDate = dateAdapter.read(in); break;
+                        case "RemainingUses": value.RemainingUses = PlayFabJson.readInteger(in); break;
+                        case "Result": value.Result = PlayFabJson.readBoolean(in); break;
+                        case "UnitCurrency": value.UnitCurrency = PlayFabJson.readString(in); break;
+                        case "UnitPrice": value.UnitPrice = PlayFabJson.readLong(in); break;
+                        case "UsesIncrementedBy": value.UsesIncrementedBy = PlayFabJson.readInteger(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class GrantItemsToCharacterRequestAdapter extends TypeAdapter<GrantItemsToCharacterRequest> {
+        private final TypeAdapter<String> stringAdapter;
+
+        private GrantItemsToCharacterRequestAdapter(Gson gson) {
+            stringAdapter = gson.getAdapter(String.class);
+        }
+
+        @Override
+        public void write(JsonWriter out, GrantItemsToCharacterRequest value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.name("Annotation").value(value.Annotation);
+            out.name("CatalogVersion").value(value.CatalogVersion);
+            out.name("CharacterId").value(value.CharacterId);
+            PlayFabJson.writeMap(out.name("CustomTags"), value.CustomTags, stringAdapter);
+            PlayFabJson.writeList(out.name("ItemIds"), value.ItemIds, stringAdapter);
+            out.name("PlayFabId").value(value.PlayFabId);
+            out.endObject();
+        }
+
+        @Override
+        public GrantItemsToCharacterRequest read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            GrantItemsToCharacterRequest value = new GrantItemsToCharacterRequest();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "Annotation": value.Annotation = PlayFabJson.readString(in); break;
+                        case "CatalogVersion": value.CatalogVersion = PlayFabJson.readString(in); break;
+                        case "CharacterId": value.CharacterId = PlayFabJson.readString(in); break;
+                        case "CustomTags": value.CustomTags = PlayFabJson.readMap(in, stringAdapter); break;
+                        case "ItemIds": value.ItemIds = PlayFabJson.readList(in, stringAdapter); break;
+                        case "PlayFabId": value.PlayFabId = PlayFabJson.readString(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class GrantItemsToCharacterResultAdapter extends TypeAdapter<GrantItemsToCharacterResult> {
+        private final TypeAdapter<GrantedItemInstance> grantedItemInstanceAdapter;
+
+        private GrantItemsToCharacterResultAdapter(Gson gson) {
+            grantedItemInstanceAdapter = gson.getAdapter(GrantedItemInstance.class);
+        }
+
+        @Override
+        public void write(JsonWriter out, GrantItemsToCharacterResult value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            PlayFabJson.writeList(out.name("ItemGrantResults"), value.ItemGrantResults, grantedItemInstanceAdapter);
+            out.endObject();
+        }
+
+        @Override
+        public GrantItemsToCharacterResult read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            GrantItemsToCharacterResult value = new GrantItemsToCharacterResult();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "ItemGrantResults": value.ItemGrantResults = PlayFabJson.readList(in, grantedItemInstanceAdapter); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class GrantItemsToUserRequestAdapter extends TypeAdapter<GrantItemsToUserRequest> {
+        private final TypeAdapter<String> stringAdapter;
+
+        private GrantItemsToUserRequestAdapter(Gson gson) {
+            stringAdapter = gson.getAdapter(String.class);
+        }
+
+        @Override
+        public void write(JsonWriter out, GrantItemsToUserRequest value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.name("Annotation").value(value.Annotation);
+            out.name("CatalogVersion").value(value.CatalogVersion);
+            PlayFabJson.writeMap(out.name("CustomTags"), value.CustomTags, stringAdapter);
+            PlayFabJson.writeList(out.name("ItemIds"), value.ItemIds, stringAdapter);
+            out.name("PlayFabId").value(value.PlayFabId);
+            out.endObject();
+        }
+
+        @Override
+        public GrantItemsToUserRequest read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            GrantItemsToUserRequest value = new GrantItemsToUserRequest();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "Annotation": value.Annotation = PlayFabJson.readString(in); break;
+                        case "CatalogVersion": value.CatalogVersion = PlayFabJson.readString(in); break;
+                        case "CustomTags": value.CustomTags = PlayFabJson.readMap(in, stringAdapter); break;
+                        case "ItemIds": value.ItemIds = PlayFabJson.readList(in, stringAdapter); break;
+                        case "PlayFabId": value.PlayFabId = PlayFabJson.readString(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class GrantItemsToUserResultAdapter extends TypeAdapter<GrantItemsToUserResult> {
+        private final TypeAdapter<GrantedItemInstance> grantedItemInstanceAdapter;
+
+        private GrantItemsToUserResultAdapter(Gson gson) {
+            grantedItemInstanceAdapter = gson.getAdapter(GrantedItemInstance.class);
+        }
+
+        @Override
+        public void write(JsonWriter out, GrantItemsToUserResult value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            PlayFabJson.writeList(out.name("ItemGrantResults"), value.ItemGrantResults, grantedItemInstanceAdapter);
+            out.endObject();
+        }
+
+        @Override
+        public GrantItemsToUserResult read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            GrantItemsToUserResult value = new GrantItemsToUserResult();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "ItemGrantResults": value.ItemGrantResults = PlayFabJson.readList(in, grantedItemInstanceAdapter); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class GrantItemsToUsersRequestAdapter extends TypeAdapter<GrantItemsToUsersRequest> {
+        private final TypeAdapter<String> stringAdapter;
+        private final TypeAdapter<ItemGrant> itemGrantAdapter;
+
+        private GrantItemsToUsersRequestAdapter(Gson gson) {
+            stringAdapter = gson.getAdapter(String.class);
+            itemGrantAdapter = gson.getAdapter(ItemGrant.class);
+        }
+
+        @Override
+        public void write(JsonWriter out, GrantItemsToUsersRequest value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.name("CatalogVersion").value(value.CatalogVersion);
+            PlayFabJson.writeMap(out.name("CustomTags"), value.CustomTags, stringAdapter);
+            PlayFabJson.writeList(out.name("ItemGrants"), value.ItemGrants, itemGrantAdapter);
+            out.endObject();
+        }
+
+        @Override
+        public GrantItemsToUsersRequest read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            GrantItemsToUsersRequest value = new GrantItemsToUsersRequest();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "CatalogVersion": value.CatalogVersion = PlayFabJson.readString(in); break;
+                        case "CustomTags": value.CustomTags = PlayFabJson.readMap(in, stringAdapter); break;
+                        case "ItemGrants": value.ItemGrants = PlayFabJson.readList(in, itemGrantAdapter); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class GrantItemsToUsersResultAdapter extends TypeAdapter<GrantItemsToUsersResult> {
+        private final TypeAdapter<GrantedItemInstance> grantedItemInstanceAdapter;
+
+        private GrantItemsToUsersResultAdapter(Gson gson) {
+            grantedItemInstanceAdapter = gson.getAdapter(GrantedItemInstance.class);
+        }
+
+        @Override
+        public void write(JsonWriter out, GrantItemsToUsersResult value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            PlayFabJson.writeList(out.name("ItemGrantResults"), value.ItemGrantResults, grantedItemInstanceAdapter);
+            out.endObject();
+        }
+
+        @Override
+        public GrantItemsToUsersResult read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            GrantItemsToUsersResult value = new GrantItemsToUsersResult();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "ItemGrantResults": value.ItemGrantResults = PlayFabJson.readList(in, grantedItemInstanceAdapter); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class ItemGrantAdapter extends TypeAdapter<ItemGrant> {
+        private final TypeAdapter<String> stringAdapter;
+
+        private ItemGrantAdapter(Gson gson) {
+            stringAdapter = gson.getAdapter(String.class);
+        }
+
+        @Override
+        public void write(JsonWriter out, ItemGrant value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.name("Annotation").value(value.Annotation);
+            out.name("CharacterId").value(value.CharacterId);
+            PlayFabJson.writeMap(out.name("Data"), value.Data, stringAdapter);
+            out.name("ItemId").value(value.ItemId);
+            PlayFabJson.writeList(out.name("KeysToRemove"), value.KeysToRemove, stringAdapter);
+            out.name("PlayFabId").value(value.PlayFabId);
+            out.endObject();
+        }
+
+        @Override
+        public ItemGrant read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            ItemGrant value = new ItemGrant();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "Annotation": value.Annotation = PlayFabJson.readString(in); break;
+                        case "CharacterId": value.CharacterId = PlayFabJson.readString(in); break;
+                        case "Data": value.Data = PlayFabJson.readMap(in, stringAdapter); break;
+                        case "ItemId": value.ItemId = PlayFabJson.readString(in); break;
+                        case "KeysToRemove": value.KeysToRemove = PlayFabJson.readList(in, stringAdapter); break;
+                        case "PlayFabId": value.PlayFabId = PlayFabJson.readString(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class ItemInstanceAdapter extends TypeAdapter<ItemInstance> {
+        private final TypeAdapter<String> stringAdapter;
+        private final TypeAdapter<Date> dateAdapter;
+
+        private ItemInstanceAdapter(Gson gson) {
+            stringAdapter = gson.getAdapter(String.class);
+            dateAdapter = gson.getAdapter(Date.class);
+        }
+
+        @Override
+        public void write(JsonWriter out, ItemInstance value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.name("Annotation").value(value.Annotation);
+            PlayFabJson.writeList(out.name("BundleContents"), value.BundleContents, stringAdapter);
+            out.name("BundleParent").value(value.BundleParent);
+            out.name("CatalogVersion").value(value.CatalogVersion);
+            PlayFabJson.writeMap(out.name("CustomData"), value.CustomData, stringAdapter);
+            out.name("DisplayName").value(value.DisplayName);
+            dateAdapter.write(out.name("Expiration"), value.Expiration);
+            out.name("ItemClass").value(value.ItemClass);
+            out.name("ItemId").value(value.ItemId);
+            out.name("ItemInstanceId").value(value.ItemInstanceId);
+            dateAdapter.write(out.name("PurchaseDate"), value.PurchaseDate);
+            out.name("RemainingUses").value(value.RemainingUses);
+            out.name("UnitCurrency").value(value.UnitCurrency);
+            out.name("UnitPrice").value(value.UnitPrice);
+            out.name("UsesIncrementedBy").value(value.UsesIncrementedBy);
+            out.endObject();
+        }
+
+        @Override
+        public ItemInstance read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            ItemInstance value = new ItemInstance();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "Annotation": value.Annotation = PlayFabJson.readString(in); break;
+                        case "BundleContents": value.BundleContents = PlayFabJson.readList(in, stringAdapter); break;
+                        case "BundleParent": value.BundleParent = PlayFabJson.readString(in); break;
+                        case "CatalogVersion": value.CatalogVersion = PlayFabJson.readString(in); break;
+                        case "CustomData": value.CustomData = PlayFabJson.readMap(in, stringAdapter); break;
+                        case "DisplayName": value.DisplayName = PlayFabJson.readString(in); break;
+                        case "Expiration": value.Expiration = dateAdapter.read(in); break;
+                        case "ItemClass": value.ItemClass = PlayFabJson.readString(in); break;
+                        case "ItemId": value.ItemId = PlayFabJson.readString(in); break;
+                        case "ItemInstanceId": value.ItemInstanceId = PlayFabJson.readString(in); break;
+                        case "PurchaseDate": value.PurchaseDate = dateAdapter.read(in); break;
+                        case "RemainingUses": value.RemainingUses = PlayFabJson.readInteger(in); break;
+                        case "UnitCurrency": value.UnitCurrency = PlayFabJson.readString(in); break;
+                        case "UnitPrice": value.UnitPrice = PlayFabJson.readLong(in); break;
+                        case "UsesIncrementedBy": value.UsesIncrementedBy = PlayFabJson.readInteger(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class LinkedPlatformAccountModelAdapter extends TypeAdapter<LinkedPlatformAccountModel> {
+        private final TypeAdapter<LoginIdentityProvider> loginIdentityProviderAdapter;
+
+        private LinkedPlatformAccountModelAdapter(Gson gson) {
+            loginIdentityProviderAdapter = gson.getAdapter(LoginIdentityProvider.class);
+        }
+
+        @Override
+        public void write(JsonWriter out, LinkedPlatformAccountModel value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.name("Email").value(value.Email);
+            loginIdentityProviderAdapter.write(out.name("Platform"), value.Platform);
+            out.name("PlatformUserId").value(value.PlatformUserId);
+            out.name("Username").value(value.Username);
+            out.endObject();
+        }
+
+        @Override
+        public LinkedPlatformAccountModel read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            LinkedPlatformAccountModel value = new LinkedPlatformAccountModel();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "Email": value.Email = PlayFabJson.readString(in); break;
+                        case "Platform": value.Platform = loginIdentityProviderAdapter.read(in); break;
+                        case "PlatformUserId": value.PlatformUserId = PlayFabJson.readString(in); break;
+                        case "Username": value.Username = PlayFabJson.readString(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class LinkPSNAccountRequestAdapter extends TypeAdapter<LinkPSNAccountRequest> {
+        private final TypeAdapter<String> stringAdapter;
+
+        private LinkPSNAccountRequestAdapter(Gson gson) {
+            stringAdapter = gson.getAdapter(String.class);
+        }
+
+        @Override
+        public void write(JsonWriter out, LinkPSNAccountRequest value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.name("AuthCode").value(value.AuthCode);
+            PlayFabJson.writeMap(out.name("CustomTags"), value.CustomTags, stringAdapter);
+            out.name("ForceLink").value(value.ForceLink);
+            out.name("IssuerId").value(value.IssuerId);
+            out.name("PlayFabId").value(value.PlayFabId);
+            out.name("RedirectUri").value(value.RedirectUri);
+            out.endObject();
+        }
+
+        @Override
+        public LinkPSNAccountRequest read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            LinkPSNAccountRequest value = new LinkPSNAccountRequest();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "AuthCode": value.AuthCode = PlayFabJson.readString(in); break;
+                        case "CustomTags": value.CustomTags = PlayFabJson.readMap(in, stringAdapter); break;
+                        case "ForceLink": value.ForceLink = PlayFabJson.readBoolean(in); break;
+                        case "IssuerId": value.IssuerId = PlayFabJson.readInteger(in); break;
+                        case "PlayFabId": value.PlayFabId = PlayFabJson.readString(in); break;
+                        case "RedirectUri": value.RedirectUri = PlayFabJson.readString(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class LinkPSNAccountResultAdapter extends TypeAdapter<LinkPSNAccountResult> {
+        private LinkPSNAccountResultAdapter(Gson gson) {
+        }
+
+        @Override
+        public void write(JsonWriter out, LinkPSNAccountResult value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.endObject();
+        }
+
+        @Override
+        public LinkPSNAccountResult read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            LinkPSNAccountResult value = new LinkPSNAccountResult();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class LinkServerCustomIdRequestAdapter extends TypeAdapter<LinkServerCustomIdRequest> {
+        private final TypeAdapter<String> stringAdapter;
+
+        private LinkServerCustomIdRequestAdapter(Gson gson) {
+            stringAdapter = gson.getAdapter(String.class);
+        }
+
+        @Override
+        public void write(JsonWriter out, LinkServerCustomIdRequest value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            PlayFabJson.writeMap(out.name("CustomTags"), value.CustomTags, stringAdapter);
+            out.name("ForceLink").value(value.ForceLink);
+            out.name("PlayFabId").value(value.PlayFabId);
+            out.name("ServerCustomId").value(value.ServerCustomId);
+            out.endObject();
+        }
+
+        @Override
+        public LinkServerCustomIdRequest read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            LinkServerCustomIdRequest value = new LinkServerCustomIdRequest();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "CustomTags": value.CustomTags = PlayFabJson.readMap(in, stringAdapter); break;
+                        case "ForceLink": value.ForceLink = PlayFabJson.readBoolean(in); break;
+                        case "PlayFabId": value.PlayFabId = PlayFabJson.readString(in); break;
+                        case "ServerCustomId": value.ServerCustomId = PlayFabJson.readString(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class LinkServerCustomIdResultAdapter extends TypeAdapter<LinkServerCustomIdResult> {
+        private LinkServerCustomIdResultAdapter(Gson gson) {
+        }
+
+        @Override
+        public void write(JsonWriter out, LinkServerCustomIdResult value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.endObject();
+        }
+
+        @Override
+        public LinkServerCustomIdResult read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            LinkServerCustomIdResult value = new LinkServerCustomIdResult();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class LinkXboxAccountRequestAdapter extends TypeAdapter<LinkXboxAccountRequest> {
+        private final TypeAdapter<String> stringAdapter;
+
+        private LinkXboxAccountRequestAdapter(Gson gson) {
+            stringAdapter = gson.getAdapter(String.class);
+        }
+
+        @Override
+        public void write(JsonWriter out, LinkXboxAccountRequest value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            PlayFabJson.writeMap(out.name("CustomTags"), value.CustomTags, stringAdapter);
+            out.name("ForceLink").value(value.ForceLink);
+            out.name("PlayFabId").value(value.PlayFabId);
+            out.name("XboxToken").value(value.XboxToken);
+            out.endObject();
+        }
+
+        @Override
+        public LinkXboxAccountRequest read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            LinkXboxAccountRequest value = new LinkXboxAccountRequest();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "CustomTags": value.CustomTags = PlayFabJson.readMap(in, stringAdapter); break;
+                        case "ForceLink": value.ForceLink = PlayFabJson.readBoolean(in); break;
+                        case "PlayFabId": value.PlayFabId = PlayFabJson.readString(in); break;
+                        case "XboxToken": value.XboxToken = PlayFabJson.readString(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class LinkXboxAccountResultAdapter extends TypeAdapter<LinkXboxAccountResult> {
+        private LinkXboxAccountResultAdapter(Gson gson) {
+        }
+
+        @Override
+        public void write(JsonWriter out, LinkXboxAccountResult value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.endObject();
+        }
+
+        @Override
+        public LinkXboxAccountResult read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            LinkXboxAccountResult value = new LinkXboxAccountResult();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class ListUsersCharactersRequestAdapter extends TypeAdapter<ListUsersCharactersRequest> {
+        private ListUsersCharactersRequestAdapter(Gson gson) {
+        }
+
+        @Override
+        public void write(JsonWriter out, ListUsersCharactersRequest value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.name("PlayFabId").value(value.PlayFabId);
+            out.endObject();
+        }
+
+        @Override
+        public ListUsersCharactersRequest read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            ListUsersCharactersRequest value = new ListUsersCharactersRequest();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "PlayFabId": value.PlayFabId = PlayFabJson.readString(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class ListUsersCharactersResultAdapter extends TypeAdapter<ListUsersCharactersResult> {
+        private final TypeAdapter<CharacterResult> characterResultAdapter;
+
+        private ListUsersCharactersResultAdapter(Gson gson) {
+            characterResultAdapter = gson.getAdapter(CharacterResult.class);
+        }
+
+        @Override
+        public void write(JsonWriter out, ListUsersCharactersResult value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            PlayFabJson.writeList(out.name("Characters"), value.Characters, characterResultAdapter);
+            out.endObject();
+        }
+
+        @Override
+        public ListUsersCharactersResult read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            ListUsersCharactersResult value = new ListUsersCharactersResult();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "Characters": value.Characters = PlayFabJson.readList(in, characterResultAdapter); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class LocalizedPushNotificationPropertiesAdapter extends TypeAdapter<LocalizedPushNotificationProperties> {
+        private LocalizedPushNotificationPropertiesAdapter(Gson gson) {
+        }
+
+        @Override
+        public void write(JsonWriter out, LocalizedPushNotificationProperties value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.name("Message").value(value.Message);
+            out.name("Subject").value(value.Subject);
+            out.endObject();
+        }
+
+        @Override
+        public LocalizedPushNotificationProperties read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            LocalizedPushNotificationProperties value = new LocalizedPushNotificationProperties();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "Message": value.Message = PlayFabJson.readString(in); break;
+                        case "Subject": value.Subject = PlayFabJson.readString(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class LocationModelAdapter extends TypeAdapter<LocationModel> {
+        private final TypeAdapter<ContinentCode> continentCodeAdapter;
+        private final TypeAdapter<CountryCode> countryCodeAdapter;
+        private final TypeAdapter<Double> doubleAdapter;
+
+        private LocationModelAdapter(Gson gson) {
+            continentCodeAdapter = gson.getAdapter(ContinentCode.class);
+            countryCodeAdapter = gson.getAdapter(CountryCode.class);
+            doubleAdapter = gson.getAdapter(Double.class);
+        }
+
+        @Override
+        public void write(JsonWriter out, LocationModel value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.name("City").value(value.City);
+            continentCodeAdapter.write(out.name("ContinentCode"), value.ContinentCode);
+            countryCodeAdapter.write(out.name("CountryCode"), value.CountryCode);
+            doubleAdapter.write(out.name("Latitude"), value.Latitude);
+            doubleAdapter.write(out.name("Longitude"), value.Longitude);
+            out.endObject();
+        }
+
+        @Override
+        public LocationModel read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            LocationModel value = new LocationModel();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "City": value.City = PlayFabJson.readString(in); break;
+                        case "ContinentCode": value.ContinentCode = continentCodeAdapter.read(in); break;
+                        case "CountryCode": value.CountryCode = countryCodeAdapter.read(in); break;
+                        case "Latitude": value.Latitude = doubleAdapter.read(in); break;
+                        case "Longitude": value.Longitude = doubleAdapter.read(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class LoginWithServerCustomIdRequestAdapter extends TypeAdapter<LoginWithServerCustomIdRequest> {
+        private final TypeAdapter<String> stringAdapter;
+        private final TypeAdapter<GetPlayerCombinedInfoRequestParams> getPlayerCombinedInfoRequestParamsAdapter;
+
+        private LoginWithServerCustomIdRequestAdapter(Gson gson) {
+            stringAdapter = gson.getAdapter(String.class);
+            getPlayerCombinedInfoRequestParamsAdapter = gson.getAdapter(GetPlayerCombinedInfoRequestParams.class);
+        }
+
+        @Override
+        public void write(JsonWriter out, LoginWithServerCustomIdRequest value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.name("CreateAccount").value(value.CreateAccount);
+            PlayFabJson.writeMap(out.name("CustomTags"), value.CustomTags, stringAdapter);
+            getPlayerCombinedInfoRequestParamsAdapter.write(out.name("InfoRequestParameters"), value.InfoRequestParameters);
+            out.name("PlayerSecret").value(value.PlayerSecret);
+            out.name("ServerCustomId").value(value.ServerCustomId);
+            out.endObject();
+        }
+
+        @Override
+        public LoginWithServerCustomIdRequest read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            LoginWithServerCustomIdRequest value = new LoginWithServerCustomIdRequest();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "CreateAccount": value.CreateAccount = PlayFabJson.readBoolean(in); break;
+                        case "CustomTags": value.CustomTags = PlayFabJson.readMap(in, stringAdapter); break;
+                        case "InfoRequestParameters": value.InfoRequestParameters = getPlayerCombinedInfoRequestParamsAdapter.read(in); break;
+                        case "PlayerSecret": value.PlayerSecret = PlayFabJson.readString(in); break;
+                        case "ServerCustomId": value.ServerCustomId = PlayFabJson.readString(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class LoginWithSteamIdRequestAdapter extends TypeAdapter<LoginWithSteamIdRequest> {
+        private final TypeAdapter<String> stringAdapter;
+        private final TypeAdapter<GetPlayerCombinedInfoRequestParams> getPlayerCombinedInfoRequestParamsAdapter;
+
+        private LoginWithSteamIdRequestAdapter(Gson gson) {
+            stringAdapter = gson.getAdapter(String.class);
+            getPlayerCombinedInfoRequestParamsAdapter = gson.getAdapter(GetPlayerCombinedInfoRequestParams.class);
+        }
+
+        @Override
+        public void write(JsonWriter out, LoginWithSteamIdRequest value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.name("CreateAccount").value(value.CreateAccount);
+            PlayFabJson.writeMap(out.name("CustomTags"), value.CustomTags, stringAdapter);
+            getPlayerCombinedInfoRequestParamsAdapter.write(out.name("InfoRequestParameters"), value.InfoRequestParameters);
+            out.name("SteamId").value(value.SteamId);
+            out.endObject();
+        }
+
+        @Override
+        public LoginWithSteamIdRequest read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            LoginWithSteamIdRequest value = new LoginWithSteamIdRequest();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "CreateAccount": value.CreateAccount = PlayFabJson.readBoolean(in); break;
+                        case "CustomTags": value.CustomTags = PlayFabJson.readMap(in, stringAdapter); break;
+                        case "InfoRequestParameters": value.InfoRequestParameters = getPlayerCombinedInfoRequestParamsAdapter.read(in); break;
+                        case "SteamId": value.SteamId = PlayFabJson.readString(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class LoginWithXboxIdRequestAdapter extends TypeAdapter<LoginWithXboxIdRequest> {
+        private final TypeAdapter<String> stringAdapter;
+        private final TypeAdapter<GetPlayerCombinedInfoRequestParams> getPlayerCombinedInfoRequestParamsAdapter;
+
+        private LoginWithXboxIdRequestAdapter(Gson gson) {
+            stringAdapter = gson.getAdapter(String.class);
+            getPlayerCombinedInfoRequestParamsAdapter = gson.getAdapter(GetPlayerCombinedInfoRequestParams.class);
+        }
+
+        @Override
+        public void write(JsonWriter out, LoginWithXboxIdRequest value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.name("CreateAccount").value(value.CreateAccount);
+            PlayFabJson.writeMap(out.name("CustomTags"), value.CustomTags, stringAdapter);
+            getPlayerCombinedInfoRequestParamsAdapter.write(out.name("InfoRequestParameters"), value.InfoRequestParameters);
+            out.name("Sandbox").value(value.Sandbox);
+            out.name("XboxId").value(value.XboxId);
+            out.endObject();
+        }
+
+        @Override
+        public LoginWithXboxIdRequest read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            LoginWithXboxIdRequest value = new LoginWithXboxIdRequest();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "CreateAccount": value.CreateAccount = PlayFabJson.readBoolean(in); break;
+                        case "CustomTags": value.CustomTags = PlayFabJson.readMap(in, stringAdapter); break;
+                        case "InfoRequestParameters": value.InfoRequestParameters = getPlayerCombinedInfoRequestParamsAdapter.read(in); break;
+                        case "Sandbox": value.Sandbox = PlayFabJson.readString(in); break;
+                        case "XboxId": value.XboxId = PlayFabJson.readString(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class LoginWithXboxRequestAdapter extends TypeAdapter<LoginWithXboxRequest> {
+        private final TypeAdapter<String> stringAdapter;
+        private final TypeAdapter<GetPlayerCombinedInfoRequestParams> getPlayerCombinedInfoRequestParamsAdapter;
+
+        private LoginWithXboxRequestAdapter(Gson gson) {
+            stringAdapter = gson.getAdapter(String.class);
+            getPlayerCombinedInfoRequestParamsAdapter = gson.getAdapter(GetPlayerCombinedInfoRequestParams.class);
+        }
+
+        @Override
+        public void write(JsonWriter out, LoginWithXboxRequest value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.name("CreateAccount").value(value.CreateAccount);
+            PlayFabJson.writeMap(out.name("CustomTags"), value.CustomTags, stringAdapter);
+            getPlayerCombinedInfoRequestParamsAdapter.write(out.name("InfoRequestParameters"), value.InfoRequestParameters);
+            out.name("XboxToken").value(value.XboxToken);
+            out.endObject();
+        }
+
+        @Override
+        public LoginWithXboxRequest read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            LoginWithXboxRequest value = new LoginWithXboxRequest();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "CreateAccount": value.CreateAccount = PlayFabJson.readBoolean(in); break;
+                        case "CustomTags": value.CustomTags = PlayFabJson.readMap(in, stringAdapter); break;
+                        case "InfoRequestParameters": value.InfoRequestParameters = getPlayerCombinedInfoRequestParamsAdapter.read(in); break;
+                        case "XboxToken": value.XboxToken = PlayFabJson.readString(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class LogStatementAdapter extends TypeAdapter<LogStatement> {
+        private final TypeAdapter<Object> objectAdapter;
+
+        private LogStatementAdapter(Gson gson) {
+            objectAdapter = gson.getAdapter(Object.class);
+        }
+
+        @Override
+        public void write(JsonWriter out, LogStatement value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            objectAdapter.write(out.name("Data"), value.Data);
+            out.name("Level").value(value.Level);
+            out.name("Message").value(value.Message);
+            out.endObject();
+        }
+
+        @Override
+        public LogStatement read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            LogStatement value = new LogStatement();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "Data": value.Data = objectAdapter.read(in); break;
+                        case "Level": value.Level = PlayFabJson.readString(in); break;
+                        case "Message": value.Message = PlayFabJson.readString(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class MembershipModelAdapter extends TypeAdapter<MembershipModel> {
+        private final TypeAdapter<Date> dateAdapter;
+        private final TypeAdapter<SubscriptionModel> subscriptionModelAdapter;
+
+        private MembershipModelAdapter(Gson gson) {
+            dateAdapter = gson.getAdapter(Date.class);
+            subscriptionModelAdapter = gson.getAdapter(SubscriptionModel.class);
+        }
+
+        @Override
+        public void write(JsonWriter out, MembershipModel value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.name("IsActive").value(value.IsActive);
+            dateAdapter.write(out.name("MembershipExpiration"), value.MembershipExpiration);
+            out.name("MembershipId").value(value.MembershipId);
+            dateAdapter.write(out.name("OverrideExpiration"), value.OverrideExpiration);
+            PlayFabJson.writeList(out.name("Subscriptions"), value.Subscriptions, subscriptionModelAdapter);
+            out.endObject();
+        }
+
+        @Override
+        public MembershipModel read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            MembershipModel value = new MembershipModel();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "IsActive": value.IsActive = PlayFabJson.readBoolean(in); break;
+                        case "MembershipExpiration": value.MembershipExpiration = dateAdapter.read(in); break;
+                        case "MembershipId": value.MembershipId = PlayFabJson.readString(in); break;
+                        case "OverrideExpiration": value.OverrideExpiration = dateAdapter.read(in); break;
+                        case "Subscriptions": value.Subscriptions = PlayFabJson.readList(in, subscriptionModelAdapter); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class ModifyCharacterVirtualCurrencyResultAdapter extends TypeAdapter<ModifyCharacterVirtualCurrencyResult> {
+        private ModifyCharacterVirtualCurrencyResultAdapter(Gson gson) {
+        }
+
+        @Override
+        public void write(JsonWriter out, ModifyCharacterVirtualCurrencyResult value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.name("Balance").value(value.Balance);
+            out.name("VirtualCurrency").value(value.VirtualCurrency);
+            out.endObject();
+        }
+
+        @Override
+        public ModifyCharacterVirtualCurrencyResult read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            ModifyCharacterVirtualCurrencyResult value = new ModifyCharacterVirtualCurrencyResult();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "Balance": value.Balance = PlayFabJson.readInteger(in); break;
+                        case "VirtualCurrency": value.VirtualCurrency = PlayFabJson.readString(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class ModifyItemUsesRequestAdapter extends TypeAdapter<ModifyItemUsesRequest> {
+        private final TypeAdapter<String> stringAdapter;
+
+        private ModifyItemUsesRequestAdapter(Gson gson) {
+            stringAdapter = gson.getAdapter(String.class);
+        }
+
+        @Override
+        public void write(JsonWriter out, ModifyItemUsesRequest value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            PlayFabJson.writeMap(out.name("CustomTags"), value.CustomTags, stringAdapter);
+            out.name("ItemInstanceId").value(value.ItemInstanceId);
+            out.name("PlayFabId").value(value.PlayFabId);
+            out.name("UsesToAdd").value(value.UsesToAdd);
+            out.endObject();
+        }
+
+        @Override
+        public ModifyItemUsesRequest read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            ModifyItemUsesRequest value = new ModifyItemUsesRequest();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "CustomTags": value.CustomTags = PlayFabJson.readMap(in, stringAdapter); break;
+                        case "ItemInstanceId": value.ItemInstanceId = PlayFabJson.readString(in); break;
+                        case "PlayFabId": value.PlayFabId = PlayFabJson.readString(in); break;
+                        case "UsesToAdd": value.UsesToAdd = PlayFabJson.readInteger(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class ModifyItemUsesResultAdapter extends TypeAdapter<ModifyItemUsesResult> {
+        private ModifyItemUsesResultAdapter(Gson gson) {
+        }
+
+        @Override
+        public void write(JsonWriter out, ModifyItemUsesResult value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.name("ItemInstanceId").value(value.ItemInstanceId);
+            out.name("RemainingUses").value(value.RemainingUses);
+            out.endObject();
+        }
+
+        @Override
+        public ModifyItemUsesResult read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            ModifyItemUsesResult value = new ModifyItemUsesResult();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "ItemInstanceId": value.ItemInstanceId = PlayFabJson.readString(in); break;
+                        case "RemainingUses": value.RemainingUses = PlayFabJson.readInteger(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class ModifyUserVirtualCurrencyResultAdapter extends TypeAdapter<ModifyUserVirtualCurrencyResult> {
+        private ModifyUserVirtualCurrencyResultAdapter(Gson gson) {
+        }
+
+        @Override
+        public void write(JsonWriter out, ModifyUserVirtualCurrencyResult value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.name("Balance").value(value.Balance);
+            out.name("BalanceChange").value(value.BalanceChange);
+            out.name("PlayFabId").value(value.PlayFabId);
+            out.name("VirtualCurrency").value(value.VirtualCurrency);
+            out.endObject();
+        }
+
+        @Override
+        public ModifyUserVirtualCurrencyResult read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            ModifyUserVirtualCurrencyResult value = new ModifyUserVirtualCurrencyResult();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "Balance": value.Balance = PlayFabJson.readInteger(in); break;
+                        case "BalanceChange": value.BalanceChange = PlayFabJson.readInteger(in); break;
+                        case "PlayFabId": value.PlayFabId = PlayFabJson.readString(in); break;
+                        case "VirtualCurrency": value.VirtualCurrency = PlayFabJson.readString(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class MoveItemToCharacterFromCharacterRequestAdapter extends TypeAdapter<MoveItemToCharacterFromCharacterRequest> {
+        private MoveItemToCharacterFromCharacterRequestAdapter(Gson gson) {
+        }
+
+        @Override
+        public void write(JsonWriter out, MoveItemToCharacterFromCharacterRequest value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.name("GivingCharacterId").value(value.GivingCharacterId);
+            out.name("ItemInstanceId").value(value.ItemInstanceId);
+            out.name("PlayFabId").value(value.PlayFabId);
+            out.name("ReceivingCharacterId").value(value.ReceivingCharacterId);
+            out.endObject();
+        }
+
+        @Override
+        public MoveItemToCharacterFromCharacterRequest read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            MoveItemToCharacterFromCharacterRequest value = new MoveItemToCharacterFromCharacterRequest();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "GivingCharacterId": value.GivingCharacterId = PlayFabJson.readString(in); break;
+                        case "ItemInstanceId": value.ItemInstanceId = PlayFabJson.readString(in); break;
+                        case "PlayFabId": value.PlayFabId = PlayFabJson.readString(in); break;
+                        case "ReceivingCharacterId": value.ReceivingCharacterId = PlayFabJson.readString(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class MoveItemToCharacterFromCharacterResultAdapter extends TypeAdapter<MoveItemToCharacterFromCharacterResult> {
+        private MoveItemToCharacterFromCharacterResultAdapter(Gson gson) {
+        }
+
+        @Override
+        public void write(JsonWriter out, MoveItemToCharacterFromCharacterResult value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.endObject();
+        }
+
+        @Override
+        public MoveItemToCharacterFromCharacterResult read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            MoveItemToCharacterFromCharacterResult value = new MoveItemToCharacterFromCharacterResult();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class MoveItemToCharacterFromUserRequestAdapter extends TypeAdapter<MoveItemToCharacterFromUserRequest> {
+        private MoveItemToCharacterFromUserRequestAdapter(Gson gson) {
+        }
+
+        @Override
+        public void write(JsonWriter out, MoveItemToCharacterFromUserRequest value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.name("CharacterId").value(value.CharacterId);
+            out.name("ItemInstanceId").value(value.ItemInstanceId);
+            out.name("PlayFabId").value(value.PlayFabId);
+            out.endObject();
+        }
+
+        @Override
+        public MoveItemToCharacterFromUserRequest read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            MoveItemToCharacterFromUserRequest value = new MoveItemToCharacterFromUserRequest();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "CharacterId": value.CharacterId = PlayFabJson.readString(in); break;
+                        case "ItemInstanceId": value.ItemInstanceId = PlayFabJson.readString(in); break;
+                        case "PlayFabId": value.PlayFabId = PlayFabJson.readString(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class MoveItemToCharacterFromUserResultAdapter extends TypeAdapter<MoveItemToCharacterFromUserResult> {
+        private MoveItemToCharacterFromUserResultAdapter(Gson gson) {
+        }
+
+        @Override
+        public void write(JsonWriter out, MoveItemToCharacterFromUserResult value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.endObject();
+        }
+
+        @Override
+        public MoveItemToCharacterFromUserResult read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            MoveItemToCharacterFromUserResult value = new MoveItemToCharacterFromUserResult();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class MoveItemToUserFromCharacterRequestAdapter extends TypeAdapter<MoveItemToUserFromCharacterRequest> {
+        private MoveItemToUserFromCharacterRequestAdapter(Gson gson) {
+        }
+
+        @Override
+        public void write(JsonWriter out, MoveItemToUserFromCharacterRequest value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.name("CharacterId").value(value.CharacterId);
+            out.name("ItemInstanceId").value(value.ItemInstanceId);
+            out.name("PlayFabId").value(value.PlayFabId);
+            out.endObject();
+        }
+
+        @Override
+        public MoveItemToUserFromCharacterRequest read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            MoveItemToUserFromCharacterRequest value = new MoveItemToUserFromCharacterRequest();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "CharacterId": value.CharacterId = PlayFabJson.readString(in); break;
+                        case "ItemInstanceId": value.ItemInstanceId = PlayFabJson.readString(in); break;
+                        case "PlayFabId": value.PlayFabId = PlayFabJson.readString(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class MoveItemToUserFromCharacterResultAdapter extends TypeAdapter<MoveItemToUserFromCharacterResult> {
+        private MoveItemToUserFromCharacterResultAdapter(Gson gson) {
+        }
+
+        @Override
+        public void write(JsonWriter out, MoveItemToUserFromCharacterResult value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.endObject();
+        }
+
+        @Override
+        public MoveItemToUserFromCharacterResult read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            MoveItemToUserFromCharacterResult value = new MoveItemToUserFromCharacterResult();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class NintendoSwitchPlayFabIdPairAdapter extends TypeAdapter<NintendoSwitchPlayFabIdPair> {
+        private NintendoSwitchPlayFabIdPairAdapter(Gson gson) {
+        }
+
+        @Override
+        public void write(JsonWriter out, NintendoSwitchPlayFabIdPair value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.name("NintendoSwitchDeviceId").value(value.NintendoSwitchDeviceId);
+            out.name("PlayFabId").value(value.PlayFabId);
+            out.endObject();
+        }
+
+        @Override
+        public NintendoSwitchPlayFabIdPair read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            NintendoSwitchPlayFabIdPair value = new NintendoSwitchPlayFabIdPair();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "NintendoSwitchDeviceId": value.NintendoSwitchDeviceId = PlayFabJson.readString(in); break;
+                        case "PlayFabId": value.PlayFabId = PlayFabJson.readString(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class NotifyMatchmakerPlayerLeftRequestAdapter extends TypeAdapter<NotifyMatchmakerPlayerLeftRequest> {
+        private final TypeAdapter<String> stringAdapter;
+
+        private NotifyMatchmakerPlayerLeftRequestAdapter(Gson gson) {
+            stringAdapter = gson.getAdapter(String.class);
+        }
+
+        @Override
+        public void write(JsonWriter out, NotifyMatchmakerPlayerLeftRequest value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            PlayFabJson.writeMap(out.name("CustomTags"), value.CustomTags, stringAdapter);
+            out.name("LobbyId").value(value.LobbyId);
+            out.name("PlayFabId").value(value.PlayFabId);
+            out.endObject();
+        }
+
+        @Override
+        public NotifyMatchmakerPlayerLeftRequest read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            NotifyMatchmakerPlayerLeftRequest value = new NotifyMatchmakerPlayerLeftRequest();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "CustomTags": value.CustomTags = PlayFabJson.readMap(in, stringAdapter); break;
+                        case "LobbyId": value.LobbyId = PlayFabJson.readString(in); break;
+                        case "PlayFabId": value.PlayFabId = PlayFabJson.readString(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class NotifyMatchmakerPlayerLeftResultAdapter extends TypeAdapter<NotifyMatchmakerPlayerLeftResult> {
+        private final TypeAdapter<PlayerConnectionState> playerConnectionStateAdapter;
+
+        private NotifyMatchmakerPlayerLeftResultAdapter(Gson gson) {
+            playerConnectionStateAdapter = gson.getAdapter(PlayerConnectionState.class);
+        }
+
+        @Override
+        public void write(JsonWriter out, NotifyMatchmakerPlayerLeftResult value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            playerConnectionStateAdapter.write(out.name("PlayerState"), value.PlayerState);
+            out.endObject();
+        }
+
+        @Override
+        public NotifyMatchmakerPlayerLeftResult read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            NotifyMatchmakerPlayerLeftResult value = new NotifyMatchmakerPlayerLeftResult();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "PlayerState": value.PlayerState = playerConnectionStateAdapter.read(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class PlayerLeaderboardEntryAdapter extends TypeAdapter<PlayerLeaderboardEntry> {
+        private final TypeAdapter<PlayerProfileModel> playerProfileModelAdapter;
+
+        private PlayerLeaderboardEntryAdapter(Gson gson) {
+            playerProfileModelAdapter = gson.getAdapter(PlayerProfileModel.class);
+        }
+
+        @Override
+        public void write(JsonWriter out, PlayerLeaderboardEntry value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.name("DisplayName").value(value.DisplayName);
+            out.name("PlayFabId").value(value.PlayFabId);
+            out.name("Position").value(value.Position);
+            playerProfileModelAdapter.write(out.name("Profile"), value.Profile);
+            out.name("StatValue").value(value.StatValue);
+            out.endObject();
+        }
+
+        @Override
+        public PlayerLeaderboardEntry read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            PlayerLeaderboardEntry value = new PlayerLeaderboardEntry();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "DisplayName": value.DisplayName = PlayFabJson.readString(in); break;
+                        case "PlayFabId": value.PlayFabId = PlayFabJson.readString(in); break;
+                        case "Position": value.Position = PlayFabJson.readInteger(in); break;
+                        case "Profile": value.Profile = playerProfileModelAdapter.read(in); break;
+                        case "StatValue": value.StatValue = PlayFabJson.readInteger(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class PlayerLinkedAccountAdapter extends TypeAdapter<PlayerLinkedAccount> {
+        private final TypeAdapter<LoginIdentityProvider> loginIdentityProviderAdapter;
+
+        private PlayerLinkedAccountAdapter(Gson gson) {
+            loginIdentityProviderAdapter = gson.getAdapter(LoginIdentityProvider.class);
+        }
+
+        @Override
+        public void write(JsonWriter out, PlayerLinkedAccount value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.name("Email").value(value.Email);
+            loginIdentityProviderAdapter.write(out.name("Platform"), value.Platform);
+            out.name("PlatformUserId").value(value.PlatformUserId);
+            out.name("Username").value(value.Username);
+            out.endObject();
+        }
+
+        @Override
+        public PlayerLinkedAccount read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            PlayerLinkedAccount value = new PlayerLinkedAccount();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "Email": value.Email = PlayFabJson.readString(in); break;
+                        case "Platform": value.Platform = loginIdentityProviderAdapter.read(in); break;
+                        case "PlatformUserId": value.PlatformUserId = PlayFabJson.readString(in); break;
+                        case "Username": value.Username = PlayFabJson.readString(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class PlayerLocationAdapter extends TypeAdapter<PlayerLocation> {
+        private final TypeAdapter<ContinentCode> continentCodeAdapter;
+        private final TypeAdapter<CountryCode> countryCodeAdapter;
+        private final TypeAdapter<Double> doubleAdapter;
+
+        private PlayerLocationAdapter(Gson gson) {
+            continentCodeAdapter = gson.getAdapter(ContinentCode.class);
+            countryCodeAdapter = gson.getAdapter(CountryCode.class);
+            doubleAdapter = gson.getAdapter(Double.class);
+        }
+
+        @Override
+        public void write(JsonWriter out, PlayerLocation value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.name("City").value(value.City);
+            continentCodeAdapter.write(out.name("ContinentCode"), value.ContinentCode);
+            countryCodeAdapter.write(out.name("CountryCode"), value.CountryCode);
+            doubleAdapter.write(out.name("Latitude"), value.Latitude);
+            doubleAdapter.write(out.name("Longitude"), value.Longitude);
+            out.endObject();
+        }
+
+        @Override
+        public PlayerLocation read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            PlayerLocation value = new PlayerLocation();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "City": value.City = PlayFabJson.readString(in); break;
+                        case "ContinentCode": value.ContinentCode = continentCodeAdapter.read(in); break;
+                        case "CountryCode": value.CountryCode = countryCodeAdapter.read(in); break;
+                        case "Latitude": value.Latitude = doubleAdapter.read(in); break;
+                        case "Longitude": value.Longitude = doubleAdapter.read(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class PlayerProfileAdapter extends TypeAdapter<PlayerProfile> {
+        private final TypeAdapter<AdCampaignAttribution> adCampaignAttributionAdapter;
+        private final TypeAdapter<Date> dateAdapter;
+        private final TypeAdapter<ContactEmailInfo> contactEmailInfoAdapter;
+        private final TypeAdapter<PlayerLinkedAccount> playerLinkedAccountAdapter;
+        private final TypeAdapter<PlayerLocation> playerLocationAdapter;
+        private final TypeAdapter<LoginIdentityProvider> loginIdentityProviderAdapter;
+        private final TypeAdapter<String> stringAdapter;
+        private final TypeAdapter<PlayerStatistic> playerStatisticAdapter;
+        private final TypeAdapter<PushNotificationRegistration> pushNotificationRegistrationAdapter;
+        private final TypeAdapter<Integer> integerAdapter;
+        private final TypeAdapter<Long> longAdapter;
+
+        private PlayerProfileAdapter(Gson gson) {
+            adCampaignAttributionAdapter = gson.getAdapter(AdCampaignAttribution.class);
+            dateAdapter = gson.getAdapter(Date.class);
+            contactEmailInfoAdapter = gson.getAdapter(ContactEmailInfo.class);
+            playerLinkedAccountAdapter = gson.getAdapter(PlayerLinkedAccount.class);
+            playerLocationAdapter = gson.getAdapter(PlayerLocation.class);
+            loginIdentityProviderAdapter = gson.getAdapter(LoginIdentityProvider.class);
+            stringAdapter = gson.getAdapter(String.class);
+            playerStatisticAdapter = gson.getAdapter(PlayerStatistic.class);
+            pushNotificationRegistrationAdapter = gson.getAdapter(PushNotificationRegistration.class);
+            integerAdapter = gson.getAdapter(Integer.class);
+            longAdapter = gson.getAdapter(Long.class);
+        }
+
+        @Override
+        public void write(JsonWriter out, PlayerProfile value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            PlayFabJson.writeList(out.name("AdCampaignAttributions"), value.AdCampaignAttributions, adCampaignAttributionAdapter);
+            out.name("AvatarUrl").value(value.AvatarUrl);
+            dateAdapter.write(out.name("BannedUntil"), value.BannedUntil);
+            PlayFabJson.writeList(out.name("ContactEmailAddresses"), value.ContactEmailAddresses, contactEmailInfoAdapter);
+            dateAdapter.write(out.name("Created"), value.Created);
+            out.name("DisplayName").value(value.DisplayName);
+            dateAdapter.write(out.name("LastLogin"), value.LastLogin);
+            PlayFabJson.writeList(out.name("LinkedAccounts"), value.LinkedAccounts, playerLinkedAccountAdapter);
+            PlayFabJson.writeMap(out.name("Locations"), value.Locations, playerLocationAdapter);
+            loginIdentityProviderAdapter.write(out.name("Origination"), value.Origination);
+            PlayFabJson.writeList(out.name("PlayerExperimentVariants"), value.PlayerExperimentVariants, stringAdapter);
+            out.name("PlayerId").value(value.PlayerId);
+            PlayFabJson.writeList(out.name("PlayerStatistics"), value.PlayerStatistics, playerStatisticAdapter);
+            out.name("PublisherId").value(value.PublisherId);
+            PlayFabJson.writeList(out.name("PushNotificationRegistrations"), value.PushNotificationRegistrations, pushNotificationRegistrationAdapter);
+            PlayFabJson.writeMap(out.name("Statistics"), value.Statistics, integerAdapter);
+            PlayFabJson.writeList(out.name("Tags"), value.Tags, stringAdapter);
+            out.name("TitleId").value(value.TitleId);
+            out.name("TotalValueToDateInUSD").value(value.TotalValueToDateInUSD);
+            PlayFabJson.writeMap(out.name("ValuesToDate"), value.ValuesToDate, longAdapter);
+            PlayFabJson.writeMap(out.name("VirtualCurrencyBalances"), value.VirtualCurrencyBalances, integerAdapter);
+            out.endObject();
+        }
+
+        @Override
+        public PlayerProfile read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            PlayerProfile value = new PlayerProfile();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "AdCampaignAttributions": value.AdCampaignAttributions = PlayFabJson.readList(in, adCampaignAttributionAdapter); break;
+                        case "AvatarUrl": value.AvatarUrl = PlayFabJson.readString(in); break;
+                        case "BannedUntil": value.BannedUntil = dateAdapter.read(in); break;
+                        case "ContactEmailAddresses": value.ContactEmailAddresses = PlayFabJson.readList(in, contactEmailInfoAdapter); break;
+                        case "Created": value.Created = dateAdapter.read(in); break;
+                        case "DisplayName": value.DisplayName = PlayFabJson.readString(in); break;
+                        case "LastLogin": value.LastLogin = dateAdapter.read(in); break;
+                        case "LinkedAccounts": value.LinkedAccounts = PlayFabJson.readList(in, playerLinkedAccountAdapter); break;
+                        case "Locations": value.Locations = PlayFabJson.readMap(in, playerLocationAdapter); break;
+                        case "Origination": value.Origination = loginIdentityProviderAdapter.read(in); break;
+                        case "PlayerExperimentVariants": value.PlayerExperimentVariants = PlayFabJson.readList(in, stringAdapter); break;
+                        case "PlayerId": value.PlayerId = PlayFabJson.readString(in); break;
+                        case "PlayerStatistics": value.PlayerStatistics = PlayFabJson.readList(in, playerStatisticAdapter); break;
+                        case "PublisherId": value.PublisherId = PlayFabJson.readString(in); break;
+                        case "PushNotificationRegistrations": value.PushNotificationRegistrations = PlayFabJson.readList(in, pushNotificationRegistrationAdapter); break;
+                        case "Statistics": value.Statistics = PlayFabJson.readMap(in, integerAdapter); break;
+                        case "Tags": value.Tags = PlayFabJson.readList(in, stringAdapter); break;
+                        case "TitleId": value.TitleId = PlayFabJson.readString(in); break;
+                        case "TotalValueToDateInUSD": value.TotalValueToDateInUSD = PlayFabJson.readLong(in); break;
+                        case "ValuesToDate": value.ValuesToDate = PlayFabJson.readMap(in, longAdapter); break;
+                        case "VirtualCurrencyBalances": value.VirtualCurrencyBalances = PlayFabJson.readMap(in, integerAdapter); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class PlayerProfileModelAdapter extends TypeAdapter<PlayerProfileModel> {
+        private final TypeAdapter<AdCampaignAttributionModel> adCampaignAttributionModelAdapter;
+        private final TypeAdapter<Date> dateAdapter;
+        private final TypeAdapter<ContactEmailInfoModel> contactEmailInfoModelAdapter;
+        private final TypeAdapter<String> stringAdapter;
+        private final TypeAdapter<LinkedPlatformAccountModel> linkedPlatformAccountModelAdapter;
+        private final TypeAdapter<LocationModel> locationModelAdapter;
+        private final TypeAdapter<MembershipModel> membershipModelAdapter;
+        private final TypeAdapter<LoginIdentityProvider> loginIdentityProviderAdapter;
+        private final TypeAdapter<PushNotificationRegistrationModel> pushNotificationRegistrationModelAdapter;
+        private final TypeAdapter<StatisticModel> statisticModelAdapter;
+        private final TypeAdapter<TagModel> tagModelAdapter;
+        private final TypeAdapter<ValueToDateModel> valueToDateModelAdapter;
+
+        private PlayerProfileModelAdapter(Gson gson) {
+            adCampaignAttributionModelAdapter = gson.getAdapter(AdCampaignAttributionModel.class);
+            dateAdapter = gson.getAdapter(Date.class);
+            contactEmailInfoModelAdapter = gson.getAdapter(ContactEmailInfoModel.class);
+            stringAdapter = gson.getAdapter(String.class);
+            linkedPlatformAccountModelAdapter = gson.getAdapter(LinkedPlatformAccountModel.class);
+            locationModelAdapter = gson.getAdapter(LocationModel.class);
+            membershipModelAdapter = gson.getAdapter(MembershipModel.class);
+            loginIdentityProviderAdapter = gson.getAdapter(LoginIdentityProvider.class);
+            pushNotificationRegistrationModelAdapter = gson.getAdapter(PushNotificationRegistrationModel.class);
+            statisticModelAdapter = gson.getAdapter(StatisticModel.class);
+            tagModelAdapter = gson.getAdapter(TagModel.class);
+            valueToDateModelAdapter = gson.getAdapter(ValueToDateModel.class);
+        }
+
+        @Override
+        public void write(JsonWriter out, PlayerProfileModel value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            PlayFabJson.writeList(out.name("AdCampaignAttributions"), value.AdCampaignAttributions, adCampaignAttributionModelAdapter);
+            out.name("AvatarUrl").value(value.AvatarUrl);
+            dateAdapter.write(out.name("BannedUntil"), value.BannedUntil);
+            PlayFabJson.writeList(out.name("ContactEmailAddresses"), value.ContactEmailAddresses, contactEmailInfoModelAdapter);
+            dateAdapter.write(out.name("Created"), value.Created);
+            out.name("DisplayName").value(value.DisplayName);
+            PlayFabJson.writeList(out.name("ExperimentVariants"), value.ExperimentVariants, stringAdapter);
+            dateAdapter.write(out.name("LastLogin"), value.LastLogin);
+            PlayFabJson.writeList(out.name("LinkedAccounts"), value.LinkedAccounts, linkedPlatformAccountModelAdapter);
+            PlayFabJson.writeList(out.name("Locations"), value.Locations, locationModelAdapter);
+            PlayFabJson.writeList(out.name("Memberships"), value.Memberships, membershipModelAdapter);
+            loginIdentityProviderAdapter.write(out.name("Origination"), value.Origination);
+            out.name("PlayerId").value(value.PlayerId);
+            out.name("PublisherId").value(value.PublisherId);
+            PlayFabJson.writeList(out.name("PushNotificationRegistrations"), value.PushNotificationRegistrations, pushNotificationRegistrationModelAdapter);
+            PlayFabJson.writeList(out.name("Statistics"), value.Statistics, statisticModelAdapter);
+            PlayFabJson.writeList(out.name("Tags"), value.Tags, tagModelAdapter);
+            out.name("TitleId").value(value.TitleId);
+            out.name("TotalValueToDateInUSD").value(value.TotalValueToDateInUSD);
+            PlayFabJson.writeList(out.name("ValuesToDate"), value.ValuesToDate, valueToDateModelAdapter);
+            out.endObject();
+        }
+
+        @Override
+        public PlayerProfileModel read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            PlayerProfileModel value = new PlayerProfileModel();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "AdCampaignAttributions": value.AdCampaignAttributions = PlayFabJson.readList(in, adCampaignAttributionModelAdapter); break;
+                        case "AvatarUrl": value.AvatarUrl = PlayFabJson.readString(in); break;
+                        case "BannedUntil": value.BannedUntil = dateAdapter.read(in); break;
+                        case "ContactEmailAddresses": value.ContactEmailAddresses = PlayFabJson.readList(in, contactEmailInfoModelAdapter); break;
+                        case "Created": value.Created = dateAdapter.read(in); break;
+                        case "DisplayName": value.DisplayName = PlayFabJson.readString(in); break;
+                        case "ExperimentVariants": value.ExperimentVariants = PlayFabJson.readList(in, stringAdapter); break;
+                        case "LastLogin": value.LastLogin = dateAdapter.read(in); break;
+                        case "LinkedAccounts": value.LinkedAccounts = PlayFabJson.readList(in, linkedPlatformAccountModelAdapter); break;
+                        case "Locations": value.Locations = PlayFabJson.readList(in, locationModelAdapter); break;
+                        case "Memberships": value.Memberships = PlayFabJson.readList(in, membershipModelAdapter); break;
+                        case "Origination": value.Origination = loginIdentityProviderAdapter.read(in); break;
+                        case "PlayerId": value.PlayerId = PlayFabJson.readString(in); break;
+                        case "PublisherId": value.PublisherId = PlayFabJson.readString(in); break;
+                        case "PushNotificationRegistrations": value.PushNotificationRegistrations = PlayFabJson.readList(in, pushNotificationRegistrationModelAdapter); break;
+                        case "Statistics": value.Statistics = PlayFabJson.readList(in, statisticModelAdapter); break;
+                        case "Tags": value.Tags = PlayFabJson.readList(in, tagModelAdapter); break;
+                        case "TitleId": value.TitleId = PlayFabJson.readString(in); break;
+                        case "TotalValueToDateInUSD": value.TotalValueToDateInUSD = PlayFabJson.readLong(in); break;
+                        case "ValuesToDate": value.ValuesToDate = PlayFabJson.readList(in, valueToDateModelAdapter); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class PlayerProfileViewConstraintsAdapter extends TypeAdapter<PlayerProfileViewConstraints> {
+        private PlayerProfileViewConstraintsAdapter(Gson gson) {
+        }
+
+        @Override
+        public void write(JsonWriter out, PlayerProfileViewConstraints value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.name("ShowAvatarUrl").value(value.ShowAvatarUrl);
+            out.name("ShowBannedUntil").value(value.ShowBannedUntil);
+            out.name("ShowCampaignAttributions").value(value.ShowCampaignAttributions);
+            out.name("ShowContactEmailAddresses").value(value.ShowContactEmailAddresses);
+            out.name("ShowCreated").value(value.ShowCreated);
+            out.name("ShowDisplayName").value(value.ShowDisplayName);
+            out.name("ShowExperimentVariants").value(value.ShowExperimentVariants);
+            out.name("ShowLastLogin").value(value.ShowLastLogin);
+            out.name("ShowLinkedAccounts").value(value.ShowLinkedAccounts);
+            out.name("ShowLocations").value(value.ShowLocations);
+            out.name("ShowMemberships").value(value.ShowMemberships);
+            out.name("ShowOrigination").value(value.ShowOrigination);
+            out.name("ShowPushNotificationRegistrations").value(value.ShowPushNotificationRegistrations);
+            out.name("ShowStatistics").value(value.ShowStatistics);
+            out.name("ShowTags").value(value.ShowTags);
+            out.name("ShowTotalValueToDateInUsd").value(value.ShowTotalValueToDateInUsd);
+            out.name("ShowValuesToDate").value(value.ShowValuesToDate);
+            out.endObject();
+        }
+
+        @Override
+        public PlayerProfileViewConstraints read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            PlayerProfileViewConstraints value = new PlayerProfileViewConstraints();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "ShowAvatarUrl": value.ShowAvatarUrl = PlayFabJson.readBoolean(in); break;
+                        case "ShowBannedUntil": value.ShowBannedUntil = PlayFabJson.readBoolean(in); break;
+                        case "ShowCampaignAttributions": value.ShowCampaignAttributions = PlayFabJson.readBoolean(in); break;
+                        case "ShowContactEmailAddresses": value.ShowContactEmailAddresses = PlayFabJson.readBoolean(in); break;
+                        case "ShowCreated": value.ShowCreated = PlayFabJson.readBoolean(in); break;
+                        case "ShowDisplayName": value.ShowDisplayName = PlayFabJson.readBoolean(in); break;
+                        case "ShowExperimentVariants": value.ShowExperimentVariants = PlayFabJson.readBoolean(in); break;
+                        case "ShowLastLogin": value.ShowLastLogin = PlayFabJson.readBoolean(in); break;
+                        case "ShowLinkedAccounts": value.ShowLinkedAccounts = PlayFabJson.readBoolean(in); break;
+                        case "ShowLocations": value.ShowLocations = PlayFabJson.readBoolean(in); break;
+                        case "ShowMemberships": value.ShowMemberships = PlayFabJson.readBoolean(in); break;
+                        case "ShowOrigination": value.ShowOrigination = PlayFabJson.readBoolean(in); break;
+                        case "ShowPushNotificationRegistrations": value.ShowPushNotificationRegistrations = PlayFabJson.readBoolean(in); break;
+                        case "ShowStatistics": value.ShowStatistics = PlayFabJson.readBoolean(in); break;
+                        case "ShowTags": value.ShowTags = PlayFabJson.readBoolean(in); break;
+                        case "ShowTotalValueToDateInUsd": value.ShowTotalValueToDateInUsd = PlayFabJson.readBoolean(in); break;
+                        case "ShowValuesToDate": value.ShowValuesToDate = PlayFabJson.readBoolean(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class PlayerStatisticAdapter extends TypeAdapter<PlayerStatistic> {
+        private PlayerStatisticAdapter(Gson gson) {
+        }
+
+        @Override
+        public void write(JsonWriter out, PlayerStatistic value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.name("Id").value(value.Id);
+            out.name("Name").value(value.Name);
+            out.name("StatisticValue").value(value.StatisticValue);
+            out.name("StatisticVersion").value(value.StatisticVersion);
+            out.endObject();
+        }
+
+        @Override
+        public PlayerStatistic read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            PlayerStatistic value = new PlayerStatistic();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "Id": value.Id = PlayFabJson.readString(in); break;
+                        case "Name": value.Name = PlayFabJson.readString(in); break;
+                        case "StatisticValue": value.StatisticValue = PlayFabJson.readInteger(in); break;
+                        case "StatisticVersion": value.StatisticVersion = PlayFabJson.readInteger(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class PlayerStatisticVersionAdapter extends TypeAdapter<PlayerStatisticVersion> {
+        private final TypeAdapter<Date> dateAdapter;
+
+        private PlayerStatisticVersionAdapter(Gson gson) {
+            dateAdapter = gson.getAdapter(Date.class);
+        }
+
+        @Override
+        public void write(JsonWriter out, PlayerStatisticVersion value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            dateAdapter.write(out.name("ActivationTime"), value.ActivationTime);
+            dateAdapter.write(out.name("DeactivationTime"), value.DeactivationTime);
+            dateAdapter.write(out.name("ScheduledActivationTime"), value.ScheduledActivationTime);
+            dateAdapter.write(out.name("ScheduledDeactivationTime"), value.ScheduledDeactivationTime);
+            out.name("StatisticName").value(value.StatisticName);
+            out.name("Version").value(value.Version);
+            out.endObject();
+        }
+
+        @Override
+        public PlayerStatisticVersion read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            PlayerStatisticVersion value = new PlayerStatisticVersion();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "ActivationTime": value.ActivationTime = dateAdapter.read(in); break;
+                        case "DeactivationTime": value.DeactivationTime = dateAdapter.read(in); break;
+                        case "ScheduledActivationTime": value.ScheduledActivationTime = dateAdapter.read(in); break;
+                        case "ScheduledDeactivationTime": value.ScheduledDeactivationTime = dateAdapter.read(in); break;
+                        case "StatisticName": value.StatisticName = PlayFabJson.readString(in); break;
+                        case "Version": value.Version = PlayFabJson.readLong(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class PSNAccountPlayFabIdPairAdapter extends TypeAdapter<PSNAccountPlayFabIdPair> {
+        private PSNAccountPlayFabIdPairAdapter(Gson gson) {
+        }
+
+        @Override
+        public void write(JsonWriter out, PSNAccountPlayFabIdPair value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.name("PlayFabId").value(value.PlayFabId);
+            out.name("PSNAccountId").value(value.PSNAccountId);
+            out.endObject();
+        }
+
+        @Override
+        public PSNAccountPlayFabIdPair read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            PSNAccountPlayFabIdPair value = new PSNAccountPlayFabIdPair();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "PlayFabId": value.PlayFabId = PlayFabJson.readString(in); break;
+                        case "PSNAccountId": value.PSNAccountId = PlayFabJson.readString(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class PushNotificationPackageAdapter extends TypeAdapter<PushNotificationPackage> {
+        private PushNotificationPackageAdapter(Gson gson) {
+        }
+
+        @Override
+        public void write(JsonWriter out, PushNotificationPackage value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.name("Badge").value(value.Badge);
+            out.name("CustomData").value(value.CustomData);
+            out.name("Icon").value(value.Icon);
+            out.name("Message").value(value.Message);
+            out.name("Sound").value(value.Sound);
+            out.name("Title").value(value.Title);
+            out.endObject();
+        }
+
+        @Override
+        public PushNotificationPackage read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            PushNotificationPackage value = new PushNotificationPackage();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "Badge": value.Badge = PlayFabJson.readInteger(in); break;
+                        case "CustomData": value.CustomData = PlayFabJson.readString(in); break;
+                        case "Icon": value.Icon = PlayFabJson.readString(in); break;
+                        case "Message": value.Message = PlayFabJson.readString(in); break;
+                        case "Sound": value.Sound = PlayFabJson.readString(in); break;
+                        case "Title": value.Title = PlayFabJson.readString(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class PushNotificationRegistrationAdapter extends TypeAdapter<PushNotificationRegistration> {
+        private final TypeAdapter<PushNotificationPlatform> pushNotificationPlatformAdapter;
+
+        private PushNotificationRegistrationAdapter(Gson gson) {
+            pushNotificationPlatformAdapter = gson.getAdapter(PushNotificationPlatform.class);
+        }
+
+        @Override
+        public void write(JsonWriter out, PushNotificationRegistration value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.name("NotificationEndpointARN").value(value.NotificationEndpointARN);
+            pushNotificationPlatformAdapter.write(out.name("Platform"), value.Platform);
+            out.endObject();
+        }
+
+        @Override
+        public PushNotificationRegistration read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            PushNotificationRegistration value = new PushNotificationRegistration();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "NotificationEndpointARN": value.NotificationEndpointARN = PlayFabJson.readString(in); break;
+                        case "Platform": value.Platform = pushNotificationPlatformAdapter.read(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class PushNotificationRegistrationModelAdapter extends TypeAdapter<PushNotificationRegistrationModel> {
+        private final TypeAdapter<PushNotificationPlatform> pushNotificationPlatformAdapter;
+
+        private PushNotificationRegistrationModelAdapter(Gson gson) {
+            pushNotificationPlatformAdapter = gson.getAdapter(PushNotificationPlatform.class);
+        }
+
+        @Override
+        public void write(JsonWriter out, PushNotificationRegistrationModel value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.name("NotificationEndpointARN").value(value.NotificationEndpointARN);
+            pushNotificationPlatformAdapter.write(out.name("Platform"), value.Platform);
+            out.endObject();
+        }
+
+        @Override
+        public PushNotificationRegistrationModel read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            PushNotificationRegistrationModel value = new PushNotificationRegistrationModel();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "NotificationEndpointARN": value.NotificationEndpointARN = PlayFabJson.readString(in); break;
+                        case "Platform": value.Platform = pushNotificationPlatformAdapter.read(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class RandomResultTableListingAdapter extends TypeAdapter<RandomResultTableListing> {
+        private final TypeAdapter<ResultTableNode> resultTableNodeAdapter;
+
+        private RandomResultTableListingAdapter(Gson gson) {
+            resultTableNodeAdapter = gson.getAdapter(ResultTableNode.class);
+        }
+
+        @Override
+        public void write(JsonWriter out, RandomResultTableListing value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.name("CatalogVersion").value(value.CatalogVersion);
+            PlayFabJson.writeList(out.name("Nodes"), value.Nodes, resultTableNodeAdapter);
+            out.name("TableId").value(value.TableId);
+            out.endObject();
+        }
+
+        @Override
+        public RandomResultTableListing read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            RandomResultTableListing value = new RandomResultTableListing();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "CatalogVersion": value.CatalogVersion = PlayFabJson.readString(in); break;
+                        case "Nodes": value.Nodes = PlayFabJson.readList(in, resultTableNodeAdapter); break;
+                        case "TableId": value.TableId = PlayFabJson.readString(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class RedeemCouponRequestAdapter extends TypeAdapter<RedeemCouponRequest> {
+        private final TypeAdapter<String> stringAdapter;
+
+        private RedeemCouponRequestAdapter(Gson gson) {
+            stringAdapter = gson.getAdapter(String.class);
+        }
+
+        @Override
+        public void write(JsonWriter out, RedeemCouponRequest value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.name("CatalogVersion").value(value.CatalogVersion);
+            out.name("CharacterId").value(value.CharacterId);
+            out.name("CouponCode").value(value.CouponCode);
+            PlayFabJson.writeMap(out.name("CustomTags"), value.CustomTags, stringAdapter);
+            out.name("PlayFabId").value(value.PlayFabId);
+            out.endObject();
+        }
+
+        @Override
+        public RedeemCouponRequest read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            RedeemCouponRequest value = new RedeemCouponRequest();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "CatalogVersion": value.CatalogVersion = PlayFabJson.readString(in); break;
+                        case "CharacterId": value.CharacterId = PlayFabJson.readString(in); break;
+                        case "CouponCode": value.CouponCode = PlayFabJson.readString(in); break;
+                        case "CustomTags": value.CustomTags = PlayFabJson.readMap(in, stringAdapter); break;
+                        case "PlayFabId": value.PlayFabId = PlayFabJson.readString(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class RedeemCouponResultAdapter extends TypeAdapter<RedeemCouponResult> {
+        private final TypeAdapter<ItemInstance> itemInstanceAdapter;
+
+        private RedeemCouponResultAdapter(Gson gson) {
+            itemInstanceAdapter = gson.getAdapter(ItemInstance.class);
+        }
+
+        @Override
+        public void write(JsonWriter out, RedeemCouponResult value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            PlayFabJson.writeList(out.name("GrantedItems"), value.GrantedItems, itemInstanceAdapter);
+            out.endObject();
+        }
+
+        @Override
+        public RedeemCouponResult read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            RedeemCouponResult value = new RedeemCouponResult();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "GrantedItems": value.GrantedItems = PlayFabJson.readList(in, itemInstanceAdapter); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class RedeemMatchmakerTicketRequestAdapter extends TypeAdapter<RedeemMatchmakerTicketRequest> {
+        private final TypeAdapter<String> stringAdapter;
+
+        private RedeemMatchmakerTicketRequestAdapter(Gson gson) {
+            stringAdapter = gson.getAdapter(String.class);
+        }
+
+        @Override
+        public void write(JsonWriter out, RedeemMatchmakerTicketRequest value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            PlayFabJson.writeMap(out.name("CustomTags"), value.CustomTags, stringAdapter);
+            out.name("LobbyId").value(value.LobbyId);
+            out.name("Ticket").value(value.Ticket);
+            out.endObject();
+        }
+
+        @Override
+        public RedeemMatchmakerTicketRequest read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            RedeemMatchmakerTicketRequest value = new RedeemMatchmakerTicketRequest();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "CustomTags": value.CustomTags = PlayFabJson.readMap(in, stringAdapter); break;
+                        case "LobbyId": value.LobbyId = PlayFabJson.readString(in); break;
+                        case "Ticket": value.Ticket = PlayFabJson.readString(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class RedeemMatchmakerTicketResultAdapter extends TypeAdapter<RedeemMatchmakerTicketResult> {
+        private final TypeAdapter<UserAccountInfo> userAccountInfoAdapter;
+
+        private RedeemMatchmakerTicketResultAdapter(Gson gson) {
+            userAccountInfoAdapter = gson.getAdapter(UserAccountInfo.class);
+        }
+
+        @Override
+        public void write(JsonWriter out, RedeemMatchmakerTicketResult value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.name("Error").value(value.Error);
+            out.name("TicketIsValid").value(value.TicketIsValid);
+            userAccountInfoAdapter.write(out.name("UserInfo"), value.UserInfo);
+            out.endObject();
+        }
+
+        @Override
+        public RedeemMatchmakerTicketResult read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            RedeemMatchmakerTicketResult value = new RedeemMatchmakerTicketResult();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "Error": value.Error = PlayFabJson.readString(in); break;
+                        case "TicketIsValid": value.TicketIsValid = PlayFabJson.readBoolean(in); break;
+                        case "UserInfo": value.UserInfo = userAccountInfoAdapter.read(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class RefreshGameServerInstanceHeartbeatRequestAdapter extends TypeAdapter<RefreshGameServerInstanceHeartbeatRequest> {
+        private RefreshGameServerInstanceHeartbeatRequestAdapter(Gson gson) {
+        }
+
+        @Override
+        public void write(JsonWriter out, RefreshGameServerInstanceHeartbeatRequest value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.name("LobbyId").value(value.LobbyId);
+            out.endObject();
+        }
+
+        @Override
+        public RefreshGameServerInstanceHeartbeatRequest read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            RefreshGameServerInstanceHeartbeatRequest value = new RefreshGameServerInstanceHeartbeatRequest();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "LobbyId": value.LobbyId = PlayFabJson.readString(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class RefreshGameServerInstanceHeartbeatResultAdapter extends TypeAdapter<RefreshGameServerInstanceHeartbeatResult> {
+        private RefreshGameServerInstanceHeartbeatResultAdapter(Gson gson) {
+        }
+
+        @Override
+        public void write(JsonWriter out, RefreshGameServerInstanceHeartbeatResult value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.endObject();
+        }
+
+        @Override
+        public RefreshGameServerInstanceHeartbeatResult read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            RefreshGameServerInstanceHeartbeatResult value = new RefreshGameServerInstanceHeartbeatResult();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class RegisterGameRequestAdapter extends TypeAdapter<RegisterGameRequest> {
+        private final TypeAdapter<String> stringAdapter;
+        private final TypeAdapter<Region> regionAdapter;
+
+        private RegisterGameRequestAdapter(Gson gson) {
+            stringAdapter = gson.getAdapter(String.class);
+            regionAdapter = gson.getAdapter(Region.class);
+        }
+
+        @Override
+        public void write(JsonWriter out, RegisterGameRequest value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.name("Build").value(value.Build);
+            PlayFabJson.writeMap(out.name("CustomTags"), value.CustomTags, stringAdapter);
+            out.name("GameMode").value(value.GameMode);
+            out.name("LobbyId").value(value.LobbyId);
+            regionAdapter.write(out.name("Region"), value.Region);
+            out.name("ServerIPV4Address").value(value.ServerIPV4Address);
+            out.name("ServerIPV6Address").value(value.ServerIPV6Address);
+            out.name("ServerPort").value(value.ServerPort);
+            out.name("ServerPublicDNSName").value(value.ServerPublicDNSName);
+            PlayFabJson.writeMap(out.name("Tags"), value.Tags, stringAdapter);
+            out.endObject();
+        }
+
+        @Override
+        public RegisterGameRequest read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            RegisterGameRequest value = new RegisterGameRequest();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "Build": value.Build = PlayFabJson.readString(in); break;
+                        case "CustomTags": value.CustomTags = PlayFabJson.readMap(in, stringAdapter); break;
+                        case "GameMode": value.GameMode = PlayFabJson.readString(in); break;
+                        case "LobbyId": value.LobbyId = PlayFabJson.readString(in); break;
+                        case "Region": value.Region = regionAdapter.read(in); break;
+                        case "ServerIPV4Address": value.ServerIPV4Address = PlayFabJson.readString(in); break;
+                        case "ServerIPV6Address": value.ServerIPV6Address = PlayFabJson.readString(in); break;
+                        case "ServerPort": value.ServerPort = PlayFabJson.readString(in); break;
+                        case "ServerPublicDNSName": value.ServerPublicDNSName = PlayFabJson.readString(in); break;
+                        case "Tags": value.Tags = PlayFabJson.readMap(in, stringAdapter); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class RegisterGameResponseAdapter extends TypeAdapter<RegisterGameResponse> {
+        private RegisterGameResponseAdapter(Gson gson) {
+        }
+
+        @Override
+        public void write(JsonWriter out, RegisterGameResponse value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.name("LobbyId").value(value.LobbyId);
+            out.endObject();
+        }
+
+        @Override
+        public RegisterGameResponse read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            RegisterGameResponse value = new RegisterGameResponse();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "LobbyId": value.LobbyId = PlayFabJson.readString(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class RemoveFriendRequestAdapter extends TypeAdapter<RemoveFriendRequest> {
+        private RemoveFriendRequestAdapter(Gson gson) {
+        }
+
+        @Override
+        public void write(JsonWriter out, RemoveFriendRequest value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.name("FriendPlayFabId").value(value.FriendPlayFabId);
+            out.name("PlayFabId").value(value.PlayFabId);
+            out.endObject();
+        }
+
+        @Override
+        public RemoveFriendRequest read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            RemoveFriendRequest value = new RemoveFriendRequest();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "FriendPlayFabId": value.FriendPlayFabId = PlayFabJson.readString(in); break;
+                        case "PlayFabId": value.PlayFabId = PlayFabJson.readString(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class RemoveGenericIDRequestAdapter extends TypeAdapter<RemoveGenericIDRequest> {
+        private final TypeAdapter<GenericServiceId> genericServiceIdAdapter;
+
+        private RemoveGenericIDRequestAdapter(Gson gson) {
+            genericServiceIdAdapter = gson.getAdapter(GenericServiceId.class);
+        }
+
+        @Override
+        public void write(JsonWriter out, RemoveGenericIDRequest value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            genericServiceIdAdapter.write(out.name("GenericId"), value.GenericId);
+            out.name("PlayFabId").value(value.PlayFabId);
+            out.endObject();
+        }
+
+        @Override
+        public RemoveGenericIDRequest read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            RemoveGenericIDRequest value = new RemoveGenericIDRequest();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "GenericId": value.GenericId = genericServiceIdAdapter.read(in); break;
+                        case "PlayFabId": value.PlayFabId = PlayFabJson.readString(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class RemovePlayerTagRequestAdapter extends TypeAdapter<RemovePlayerTagRequest> {
+        private final TypeAdapter<String> stringAdapter;
+
+        private RemovePlayerTagRequestAdapter(Gson gson) {
+            stringAdapter = gson.getAdapter(String.class);
+        }
+
+        @Override
+        public void write(JsonWriter out, RemovePlayerTagRequest value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            PlayFabJson.writeMap(out.name("CustomTags"), value.CustomTags, stringAdapter);
+            out.name("PlayFabId").value(value.PlayFabId);
+            out.name("TagName").value(value.TagName);
+            out.endObject();
+        }
+
+        @Override
+        public RemovePlayerTagRequest read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            RemovePlayerTagRequest value = new RemovePlayerTagRequest();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "CustomTags": value.CustomTags = PlayFabJson.readMap(in, stringAdapter); break;
+                        case "PlayFabId": value.PlayFabId = PlayFabJson.readString(in); break;
+                        case "TagName": value.TagName = PlayFabJson.readString(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class RemovePlayerTagResultAdapter extends TypeAdapter<RemovePlayerTagResult> {
+        private RemovePlayerTagResultAdapter(Gson gson) {
+        }
+
+        @Override
+        public void write(JsonWriter out, RemovePlayerTagResult value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.endObject();
+        }
+
+        @Override
+        public RemovePlayerTagResult read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            RemovePlayerTagResult value = new RemovePlayerTagResult();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class RemoveSharedGroupMembersRequestAdapter extends TypeAdapter<RemoveSharedGroupMembersRequest> {
+        private final TypeAdapter<String> stringAdapter;
+
+        private RemoveSharedGroupMembersRequestAdapter(Gson gson) {
+            stringAdapter = gson.getAdapter(String.class);
+        }
+
+        @Override
+        public void write(JsonWriter out, RemoveSharedGroupMembersRequest value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            PlayFabJson.writeList(out.name("PlayFabIds"), value.PlayFabIds, stringAdapter);
+            out.name("SharedGroupId").value(value.SharedGroupId);
+            out.endObject();
+        }
+
+        @Override
+        public RemoveSharedGroupMembersRequest read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            RemoveSharedGroupMembersRequest value = new RemoveSharedGroupMembersRequest();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "PlayFabIds": value.PlayFabIds = PlayFabJson.readList(in, stringAdapter); break;
+                        case "SharedGroupId": value.SharedGroupId = PlayFabJson.readString(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class RemoveSharedGroupMembersResultAdapter extends TypeAdapter<RemoveSharedGroupMembersResult> {
+        private RemoveSharedGroupMembersResultAdapter(Gson gson) {
+        }
+
+        @Override
+        public void write(JsonWriter out, RemoveSharedGroupMembersResult value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.endObject();
+        }
+
+        @Override
+        public RemoveSharedGroupMembersResult read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            RemoveSharedGroupMembersResult value = new RemoveSharedGroupMembersResult();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class ReportPlayerServerRequestAdapter extends TypeAdapter<ReportPlayerServerRequest> {
+        private final TypeAdapter<String> stringAdapter;
+
+        private ReportPlayerServerRequestAdapter(Gson gson) {
+            stringAdapter = gson.getAdapter(String.class);
+        }
+
+        @Override
+        public void write(JsonWriter out, ReportPlayerServerRequest value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.name("Comment").value(value.Comment);
+            PlayFabJson.writeMap(out.name("CustomTags"), value.CustomTags, stringAdapter);
+            out.name("ReporteeId").value(value.ReporteeId);
+            out.name("ReporterId").value(value.ReporterId);
+            out.endObject();
+        }
+
+        @Override
+        public ReportPlayerServerRequest read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            ReportPlayerServerRequest value = new ReportPlayerServerRequest();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "Comment": value.Comment = PlayFabJson.readString(in); break;
+                        case "CustomTags": value.CustomTags = PlayFabJson.readMap(in, stringAdapter); break;
+                        case "ReporteeId": value.ReporteeId = PlayFabJson.readString(in); break;
+                        case "ReporterId": value.ReporterId = PlayFabJson.readString(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class ReportPlayerServerResultAdapter extends TypeAdapter<ReportPlayerServerResult> {
+        private ReportPlayerServerResultAdapter(Gson gson) {
+        }
+
+        @Override
+        public void write(JsonWriter out, ReportPlayerServerResult value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.name("SubmissionsRemaining").value(value.SubmissionsRemaining);
+            out.endObject();
+        }
+
+        @Override
+        public ReportPlayerServerResult read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            ReportPlayerServerResult value = new ReportPlayerServerResult();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "SubmissionsRemaining": value.SubmissionsRemaining = PlayFabJson.readInteger(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class ResultTableNodeAdapter extends TypeAdapter<ResultTableNode> {
+        private final TypeAdapter<ResultTableNodeType> resultTableNodeTypeAdapter;
+
+        private ResultTableNodeAdapter(Gson gson) {
+            resultTableNodeTypeAdapter = gson.getAdapter(ResultTableNodeType.class);
+        }
+
+        @Override
+        public void write(JsonWriter out, ResultTableNode value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.name("ResultItem").value(value.ResultItem);
+            resultTableNodeTypeAdapter.write(out.name("ResultItemType"), value.ResultItemType);
+            out.name("Weight").value(value.Weight);
+            out.endObject();
+        }
+
+        @Override
+        public ResultTableNode read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            ResultTableNode value = new ResultTableNode();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "ResultItem": value.ResultItem = PlayFabJson.readString(in); break;
+                        case "ResultItemType": value.ResultItemType = resultTableNodeTypeAdapter.read(in); break;
+                        case "Weight": value.Weight = PlayFabJson.readInteger(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class RevokeAllBansForUserRequestAdapter extends TypeAdapter<RevokeAllBansForUserRequest> {
+        private RevokeAllBansForUserRequestAdapter(Gson gson) {
+        }
+
+        @Override
+        public void write(JsonWriter out, RevokeAllBansForUserRequest value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.name("PlayFabId").value(value.PlayFabId);
+            out.endObject();
+        }
+
+        @Override
+        public RevokeAllBansForUserRequest read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            RevokeAllBansForUserRequest value = new RevokeAllBansForUserRequest();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "PlayFabId": value.PlayFabId = PlayFabJson.readString(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class RevokeAllBansForUserResultAdapter extends TypeAdapter<RevokeAllBansForUserResult> {
+        private final TypeAdapter<BanInfo> banInfoAdapter;
+
+        private RevokeAllBansForUserResultAdapter(Gson gson) {
+            banInfoAdapter = gson.getAdapter(BanInfo.class);
+        }
+
+        @Override
+        public void write(JsonWriter out, RevokeAllBansForUserResult value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            PlayFabJson.writeList(out.name("BanData"), value.BanData, banInfoAdapter);
+            out.endObject();
+        }
+
+        @Override
+        public RevokeAllBansForUserResult read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            RevokeAllBansForUserResult value = new RevokeAllBansForUserResult();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "BanData": value.BanData = PlayFabJson.readList(in, banInfoAdapter); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class RevokeBansRequestAdapter extends TypeAdapter<RevokeBansRequest> {
+        private final TypeAdapter<String> stringAdapter;
+
+        private RevokeBansRequestAdapter(Gson gson) {
+            stringAdapter = gson.getAdapter(String.class);
+        }
+
+        @Override
+        public void write(JsonWriter out, RevokeBansRequest value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            PlayFabJson.writeList(out.name("BanIds"), value.BanIds, stringAdapter);
+            out.endObject();
+        }
+
+        @Override
+        public RevokeBansRequest read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            RevokeBansRequest value = new RevokeBansRequest();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "BanIds": value.BanIds = PlayFabJson.readList(in, stringAdapter); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class RevokeBansResultAdapter extends TypeAdapter<RevokeBansResult> {
+        private final TypeAdapter<BanInfo> banInfoAdapter;
+
+        private RevokeBansResultAdapter(Gson gson) {
+            banInfoAdapter = gson.getAdapter(BanInfo.class);
+        }
+
+        @Override
+        public void write(JsonWriter out, RevokeBansResult value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            PlayFabJson.writeList(out.name("BanData"), value.BanData, banInfoAdapter);
+            out.endObject();
+        }
+
+        @Override
+        public RevokeBansResult read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            RevokeBansResult value = new RevokeBansResult();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "BanData": value.BanData = PlayFabJson.readList(in, banInfoAdapter); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class RevokeInventoryItemAdapter extends TypeAdapter<RevokeInventoryItem> {
+        private RevokeInventoryItemAdapter(Gson gson) {
+        }
+
+        @Override
+        public void write(JsonWriter out, RevokeInventoryItem value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.name("CharacterId").value(value.CharacterId);
+            out.name("ItemInstanceId").value(value.ItemInstanceId);
+            out.name("PlayFabId").value(value.PlayFabId);
+            out.endObject();
+        }
+
+        @Override
+        public RevokeInventoryItem read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            RevokeInventoryItem value = new RevokeInventoryItem();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "CharacterId": value.CharacterId = PlayFabJson.readString(in); break;
+                        case "ItemInstanceId": value.ItemInstanceId = PlayFabJson.readString(in); break;
+                        case "PlayFabId": value.PlayFabId = PlayFabJson.readString(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class RevokeInventoryItemRequestAdapter extends TypeAdapter<RevokeInventoryItemRequest> {
+        private RevokeInventoryItemRequestAdapter(Gson gson) {
+        }
+
+        @Override
+        public void write(JsonWriter out, RevokeInventoryItemRequest value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.name("CharacterId").value(value.CharacterId);
+            out.name("ItemInstanceId").value(value.ItemInstanceId);
+            out.name("PlayFabId").value(value.PlayFabId);
+            out.endObject();
+        }
+
+        @Override
+        public RevokeInventoryItemRequest read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            RevokeInventoryItemRequest value = new RevokeInventoryItemRequest();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "CharacterId": value.CharacterId = PlayFabJson.readString(in); break;
+                        case "ItemInstanceId": value.ItemInstanceId = PlayFabJson.readString(in); break;
+                        case "PlayFabId": value.PlayFabId = PlayFabJson.readString(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class RevokeInventoryItemsRequestAdapter extends TypeAdapter<RevokeInventoryItemsRequest> {
+        private final TypeAdapter<RevokeInventoryItem> revokeInventoryItemAdapter;
+
+        private RevokeInventoryItemsRequestAdapter(Gson gson) {
+            revokeInventoryItemAdapter = gson.getAdapter(RevokeInventoryItem.class);
+        }
+
+        @Override
+        public void write(JsonWriter out, RevokeInventoryItemsRequest value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            PlayFabJson.writeList(out.name("Items"), value.Items, revokeInventoryItemAdapter);
+            out.endObject();
+        }
+
+        @Override
+        public RevokeInventoryItemsRequest read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            RevokeInventoryItemsRequest value = new RevokeInventoryItemsRequest();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "Items": value.Items = PlayFabJson.readList(in, revokeInventoryItemAdapter); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class RevokeInventoryItemsResultAdapter extends TypeAdapter<RevokeInventoryItemsResult> {
+        private final TypeAdapter<RevokeItemError> revokeItemErrorAdapter;
+
+        private RevokeInventoryItemsResultAdapter(Gson gson) {
+            revokeItemErrorAdapter = gson.getAdapter(RevokeItemError.class);
+        }
+
+        @Override
+        public void write(JsonWriter out, RevokeInventoryItemsResult value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            PlayFabJson.writeList(out.name("Errors"), value.Errors, revokeItemErrorAdapter);
+            out.endObject();
+        }
+
+        @Override
+        public RevokeInventoryItemsResult read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            RevokeInventoryItemsResult value = new RevokeInventoryItemsResult();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "Errors": value.Errors = PlayFabJson.readList(in, revokeItemErrorAdapter); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class RevokeInventoryResultAdapter extends TypeAdapter<RevokeInventoryResult> {
+        private RevokeInventoryResultAdapter(Gson gson) {
+        }
+
+        @Override
+        public void write(JsonWriter out, RevokeInventoryResult value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.endObject();
+        }
+
+        @Override
+        public RevokeInventoryResult read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            RevokeInventoryResult value = new RevokeInventoryResult();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class RevokeItemErrorAdapter extends TypeAdapter<RevokeItemError> {
+        private final TypeAdapter<GenericErrorCodes> genericErrorCodesAdapter;
+        private final TypeAdapter<RevokeInventoryItem> revokeInventoryItemAdapter;
+
+        private RevokeItemErrorAdapter(Gson gson) {
+            genericErrorCodesAdapter = gson.getAdapter(GenericErrorCodes.class);
+            revokeInventoryItemAdapter = gson.getAdapter(RevokeInventoryItem.class);
+        }
+
+        @Override
+        public void write(JsonWriter out, RevokeItemError value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            genericErrorCodesAdapter.write(out.name("Error"), value.Error);
+            revokeInventoryItemAdapter.write(out.name("Item"), value.Item);
+            out.endObject();
+        }
+
+        @Override
+        public RevokeItemError read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            RevokeItemError value = new RevokeItemError();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "Error": value.Error = genericErrorCodesAdapter.read(in); break;
+                        case "Item": value.Item = revokeInventoryItemAdapter.read(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class SavePushNotificationTemplateRequestAdapter extends TypeAdapter<SavePushNotificationTemplateRequest> {
+        private final TypeAdapter<LocalizedPushNotificationProperties> localizedPushNotificationPropertiesAdapter;
+
+        private SavePushNotificationTemplateRequestAdapter(Gson gson) {
+            localizedPushNotificationPropertiesAdapter = gson.getAdapter(LocalizedPushNotificationProperties.class);
+        }
+
+        @Override
+        public void write(JsonWriter out, SavePushNotificationTemplateRequest value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.name("AndroidPayload").value(value.AndroidPayload);
+            out.name("Id").value(value.Id);
+            out.name("IOSPayload").value(value.IOSPayload);
+            PlayFabJson.writeMap(out.name("LocalizedPushNotificationTemplates"), value.LocalizedPushNotificationTemplates, localizedPushNotificationPropertiesAdapter);
+            out.name("Name").value(value.Name);
+            out.endObject();
+        }
+
+        @Override
+        public SavePushNotificationTemplateRequest read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            SavePushNotificationTemplateRequest value = new SavePushNotificationTemplateRequest();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "AndroidPayload": value.AndroidPayload = PlayFabJson.readString(in); break;
+                        case "Id": value.Id = PlayFabJson.readString(in); break;
+                        case "IOSPayload": value.IOSPayload = PlayFabJson.readString(in); break;
+                        case "LocalizedPushNotificationTemplates": value.LocalizedPushNotificationTemplates = PlayFabJson.readMap(in, localizedPushNotificationPropertiesAdapter); break;
+                        case "Name": value.Name = PlayFabJson.readString(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class SavePushNotificationTemplateResultAdapter extends TypeAdapter<SavePushNotificationTemplateResult> {
+        private SavePushNotificationTemplateResultAdapter(Gson gson) {
+        }
+
+        @Override
+        public void write(JsonWriter out, SavePushNotificationTemplateResult value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.name("PushNotificationTemplateId").value(value.PushNotificationTemplateId);
+            out.endObject();
+        }
+
+        @Override
+        public SavePushNotificationTemplateResult read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            SavePushNotificationTemplateResult value = new SavePushNotificationTemplateResult();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "PushNotificationTemplateId": value.PushNotificationTemplateId = PlayFabJson.readString(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class ScriptExecutionErrorAdapter extends TypeAdapter<ScriptExecutionError> {
+        private ScriptExecutionErrorAdapter(Gson gson) {
+        }
+
+        @Override
+        public void write(JsonWriter out, ScriptExecutionError value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.name("Error").value(value.Error);
+            out.name("Message").value(value.Message);
+            out.name("StackTrace").value(value.StackTrace);
+            out.endObject();
+        }
+
+        @Override
+        public ScriptExecutionError read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            ScriptExecutionError value = new ScriptExecutionError();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "Error": value.Error = PlayFabJson.readString(in); break;
+                        case "Message": value.Message = PlayFabJson.readString(in); break;
+                        case "StackTrace": value.StackTrace = PlayFabJson.readString(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class SendCustomAccountRecoveryEmailRequestAdapter extends TypeAdapter<SendCustomAccountRecoveryEmailRequest> {
+        private final TypeAdapter<String> stringAdapter;
+
+        private SendCustomAccountRecoveryEmailRequestAdapter(Gson gson) {
+            stringAdapter = gson.getAdapter(String.class);
+        }
+
+        @Override
+        public void write(JsonWriter out, SendCustomAccountRecoveryEmailRequest value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            PlayFabJson.writeMap(out.name("CustomTags"), value.CustomTags, stringAdapter);
+            out.name("Email").value(value.Email);
+            out.name("EmailTemplateId").value(value.EmailTemplateId);
+            out.name("Username").value(value.Username);
+            out.endObject();
+        }
+
+        @Override
+        public SendCustomAccountRecoveryEmailRequest read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            SendCustomAccountRecoveryEmailRequest value = new SendCustomAccountRecoveryEmailRequest();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "CustomTags": value.CustomTags = PlayFabJson.readMap(in, stringAdapter); break;
+                        case "Email": value.Email = PlayFabJson.readString(in); break;
+                        case "EmailTemplateId": value.EmailTemplateId = PlayFabJson.readString(in); break;
+                        case "Username": value.Username = PlayFabJson.readString(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class SendCustomAccountRecoveryEmailResultAdapter extends TypeAdapter<SendCustomAccountRecoveryEmailResult> {
+        private SendCustomAccountRecoveryEmailResultAdapter(Gson gson) {
+        }
+
+        @Override
+        public void write(JsonWriter out, SendCustomAccountRecoveryEmailResult value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.endObject();
+        }
+
+        @Override
+        public SendCustomAccountRecoveryEmailResult read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            SendCustomAccountRecoveryEmailResult value = new SendCustomAccountRecoveryEmailResult();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class SendEmailFromTemplateRequestAdapter extends TypeAdapter<SendEmailFromTemplateRequest> {
+        private final TypeAdapter<String> stringAdapter;
+
+        private SendEmailFromTemplateRequestAdapter(Gson gson) {
+            stringAdapter = gson.getAdapter(String.class);
+        }
+
+        @Override
+        public void write(JsonWriter out, SendEmailFromTemplateRequest value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            PlayFabJson.writeMap(out.name("CustomTags"), value.CustomTags, stringAdapter);
+            out.name("EmailTemplateId").value(value.EmailTemplateId);
+            out.name("PlayFabId").value(value.PlayFabId);
+            out.endObject();
+        }
+
+        @Override
+        public SendEmailFromTemplateRequest read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            SendEmailFromTemplateRequest value = new SendEmailFromTemplateRequest();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "CustomTags": value.CustomTags = PlayFabJson.readMap(in, stringAdapter); break;
+                        case "EmailTemplateId": value.EmailTemplateId = PlayFabJson.readString(in); break;
+                        case "PlayFabId": value.PlayFabId = PlayFabJson.readString(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class SendEmailFromTemplateResultAdapter extends TypeAdapter<SendEmailFromTemplateResult> {
+        private SendEmailFromTemplateResultAdapter(Gson gson) {
+        }
+
+        @Override
+        public void write(JsonWriter out, SendEmailFromTemplateResult value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.endObject();
+        }
+
+        @Override
+        public SendEmailFromTemplateResult read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            SendEmailFromTemplateResult value = new SendEmailFromTemplateResult();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class SendPushNotificationFromTemplateRequestAdapter extends TypeAdapter<SendPushNotificationFromTemplateRequest> {
+        private final TypeAdapter<String> stringAdapter;
+
+        private SendPushNotificationFromTemplateRequestAdapter(Gson gson) {
+            stringAdapter = gson.getAdapter(String.class);
+        }
+
+        @Override
+        public void write(JsonWriter out, SendPushNotificationFromTemplateRequest value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            PlayFabJson.writeMap(out.name("CustomTags"), value.CustomTags, stringAdapter);
+            out.name("PushNotificationTemplateId").value(value.PushNotificationTemplateId);
+            out.name("Recipient").value(value.Recipient);
+            out.endObject();
+        }
+
+        @Override
+        public SendPushNotificationFromTemplateRequest read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            SendPushNotificationFromTemplateRequest value = new SendPushNotificationFromTemplateRequest();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "CustomTags": value.CustomTags = PlayFabJson.readMap(in, stringAdapter); break;
+                        case "PushNotificationTemplateId": value.PushNotificationTemplateId = PlayFabJson.readString(in); break;
+                        case "Recipient": value.Recipient = PlayFabJson.readString(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class SendPushNotificationRequestAdapter extends TypeAdapter<SendPushNotificationRequest> {
+        private final TypeAdapter<AdvancedPushPlatformMsg> advancedPushPlatformMsgAdapter;
+        private final TypeAdapter<String> stringAdapter;
+        private final TypeAdapter<PushNotificationPackage> pushNotificationPackageAdapter;
+        private final TypeAdapter<PushNotificationPlatform> pushNotificationPlatformAdapter;
+
+        private SendPushNotificationRequestAdapter(Gson gson) {
+            advancedPushPlatformMsgAdapter = gson.getAdapter(AdvancedPushPlatformMsg.class);
+            stringAdapter = gson.getAdapter(String.class);
+            pushNotificationPackageAdapter = gson.getAdapter(PushNotificationPackage.class);
+            pushNotificationPlatformAdapter = gson.getAdapter(PushNotificationPlatform.class);
+        }
+
+        @Override
+        public void write(JsonWriter out, SendPushNotificationRequest value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            PlayFabJson.writeList(out.name("AdvancedPlatformDelivery"), value.AdvancedPlatformDelivery, advancedPushPlatformMsgAdapter);
+            PlayFabJson.writeMap(out.name("CustomTags"), value.CustomTags, stringAdapter);
+            out.name("Message").value(value.Message);
+            pushNotificationPackageAdapter.write(out.name("Package"), value.Package);
+            out.name("Recipient").value(value.Recipient);
+            out.name("Subject").value(value.Subject);
+            PlayFabJson.writeList(out.name("TargetPlatforms"), value.TargetPlatforms, pushNotificationPlatformAdapter);
+            out.endObject();
+        }
+
+        @Override
+        public SendPushNotificationRequest read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            SendPushNotificationRequest value = new SendPushNotificationRequest();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "AdvancedPlatformDelivery": value.AdvancedPlatformDelivery = PlayFabJson.readList(in, advancedPushPlatformMsgAdapter); break;
+                        case "CustomTags": value.CustomTags = PlayFabJson.readMap(in, stringAdapter); break;
+                        case "Message": value.Message = PlayFabJson.readString(in); break;
+                        case "Package": value.Package = pushNotificationPackageAdapter.read(in); break;
+                        case "Recipient": value.Recipient = PlayFabJson.readString(in); break;
+                        case "Subject": value.Subject = PlayFabJson.readString(in); break;
+                        case "TargetPlatforms": value.TargetPlatforms = PlayFabJson.readList(in, pushNotificationPlatformAdapter); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class SendPushNotificationResultAdapter extends TypeAdapter<SendPushNotificationResult> {
+        private SendPushNotificationResultAdapter(Gson gson) {
+        }
+
+        @Override
+        public void write(JsonWriter out, SendPushNotificationResult value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.endObject();
+        }
+
+        @Override
+        public SendPushNotificationResult read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            SendPushNotificationResult value = new SendPushNotificationResult();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class ServerCustomIDPlayFabIDPairAdapter extends TypeAdapter<ServerCustomIDPlayFabIDPair> {
+        private ServerCustomIDPlayFabIDPairAdapter(Gson gson) {
+        }
+
+        @Override
+        public void write(JsonWriter out, ServerCustomIDPlayFabIDPair value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.name("PlayFabId").value(value.PlayFabId);
+            out.name("ServerCustomId").value(value.ServerCustomId);
+            out.endObject();
+        }
+
+        @Override
+        public ServerCustomIDPlayFabIDPair read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            ServerCustomIDPlayFabIDPair value = new ServerCustomIDPlayFabIDPair();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "PlayFabId": value.PlayFabId = PlayFabJson.readString(in); break;
+                        case "ServerCustomId": value.ServerCustomId = PlayFabJson.readString(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class ServerLoginResultAdapter extends TypeAdapter<ServerLoginResult> {
+        private final TypeAdapter<EntityTokenResponse> entityTokenResponseAdapter;
+        private final TypeAdapter<GetPlayerCombinedInfoResultPayload> getPlayerCombinedInfoResultPayloadAdapter;
+        private final TypeAdapter<Date> dateAdapter;
+        private final TypeAdapter<UserSettings> userSettingsAdapter;
+        private final TypeAdapter<TreatmentAssignment> treatmentAssignmentAdapter;
+
+        private ServerLoginResultAdapter(Gson gson) {
+            entityTokenResponseAdapter = gson.getAdapter(EntityTokenResponse.class);
+            getPlayerCombinedInfoResultPayloadAdapter = gson.getAdapter(GetPlayerCombinedInfoResultPayload.class);
+            dateAdapter = gson.getAdapter(Date.class);
+            userSettingsAdapter = gson.getAdapter(UserSettings.class);
+            treatmentAssignmentAdapter = gson.getAdapter(TreatmentAssignment.class);
+        }
+
+        @Override
+        public void write(JsonWriter out, ServerLoginResult value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            entityTokenResponseAdapter.write(out.name("EntityToken"), value.EntityToken);
+            getPlayerCombinedInfoResultPayloadAdapter.write(out.name("InfoResultPayload"), value.InfoResultPayload);
+            dateAdapter.write(out.name("LastLoginTime"), value.LastLoginTime);
+            out.name("NewlyCreated").value(value.NewlyCreated);
+            out.name("PlayFabId").value(value.PlayFabId);
+            out.name("SessionTicket").value(value.SessionTicket);
+            userSettingsAdapter.write(out.name("SettingsForUser"), value.SettingsForUser);
+            treatmentAssignmentAdapter.write(out.name("TreatmentAssignment"), value.TreatmentAssignment);
+            out.endObject();
+        }
+
+        @Override
+        public ServerLoginResult read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            ServerLoginResult value = new ServerLoginResult();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "EntityToken": value.EntityToken = entityTokenResponseAdapter.read(in); break;
+                        case "InfoResultPayload": value.InfoResultPayload = getPlayerCombinedInfoResultPayloadAdapter.read(in); break;
+                        case "LastLoginTime": value.LastLoginTime = dateAdapter.read(in); break;
+                        case "NewlyCreated": value.NewlyCreated = PlayFabJson.readBoolean(in); break;
+                        case "PlayFabId": value.PlayFabId = PlayFabJson.readString(in); break;
+                        case "SessionTicket": value.SessionTicket = PlayFabJson.readString(in); break;
+                        case "SettingsForUser": value.SettingsForUser = userSettingsAdapter.read(in); break;
+                        case "TreatmentAssignment": value.TreatmentAssignment = treatmentAssignmentAdapter.read(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class SetFriendTagsRequestAdapter extends TypeAdapter<SetFriendTagsRequest> {
+        private final TypeAdapter<String> stringAdapter;
+
+        private SetFriendTagsRequestAdapter(Gson gson) {
+            stringAdapter = gson.getAdapter(String.class);
+        }
+
+        @Override
+        public void write(JsonWriter out, SetFriendTagsRequest value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.name("FriendPlayFabId").value(value.FriendPlayFabId);
+            out.name("PlayFabId").value(value.PlayFabId);
+            PlayFabJson.writeList(out.name("Tags"), value.Tags, stringAdapter);
+            out.endObject();
+        }
+
+        @Override
+        public SetFriendTagsRequest read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            SetFriendTagsRequest value = new SetFriendTagsRequest();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "FriendPlayFabId": value.FriendPlayFabId = PlayFabJson.readString(in); break;
+                        case "PlayFabId": value.PlayFabId = PlayFabJson.readString(in); break;
+                        case "Tags": value.Tags = PlayFabJson.readList(in, stringAdapter); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class SetGameServerInstanceDataRequestAdapter extends TypeAdapter<SetGameServerInstanceDataRequest> {
+        private SetGameServerInstanceDataRequestAdapter(Gson gson) {
+        }
+
+        @Override
+        public void write(JsonWriter out, SetGameServerInstanceDataRequest value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.name("GameServerData").value(value.GameServerData);
+            out.name("LobbyId").value(value.LobbyId);
+            out.endObject();
+        }
+
+        @Override
+        public SetGameServerInstanceDataRequest read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            SetGameServerInstanceDataRequest value = new SetGameServerInstanceDataRequest();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "GameServerData": value.GameServerData = PlayFabJson.readString(in); break;
+                        case "LobbyId": value.LobbyId = PlayFabJson.readString(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class SetGameServerInstanceDataResultAdapter extends TypeAdapter<SetGameServerInstanceDataResult> {
+        private SetGameServerInstanceDataResultAdapter(Gson gson) {
+        }
+
+        @Override
+        public void write(JsonWriter out, SetGameServerInstanceDataResult value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.endObject();
+        }
+
+        @Override
+        public SetGameServerInstanceDataResult read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            SetGameServerInstanceDataResult value = new SetGameServerInstanceDataResult();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class SetGameServerInstanceStateRequestAdapter extends TypeAdapter<SetGameServerInstanceStateRequest> {
+        private final TypeAdapter<GameInstanceState> gameInstanceStateAdapter;
+
+        private SetGameServerInstanceStateRequestAdapter(Gson gson) {
+            gameInstanceStateAdapter = gson.getAdapter(GameInstanceState.class);
+        }
+
+        @Override
+        public void write(JsonWriter out, SetGameServerInstanceStateRequest value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.name("LobbyId").value(value.LobbyId);
+            gameInstanceStateAdapter.write(out.name("State"), value.State);
+            out.endObject();
+        }
+
+        @Override
+        public SetGameServerInstanceStateRequest read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            SetGameServerInstanceStateRequest value = new SetGameServerInstanceStateRequest();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "LobbyId": value.LobbyId = PlayFabJson.readString(in); break;
+                        case "State": value.State = gameInstanceStateAdapter.read(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class SetGameServerInstanceStateResultAdapter extends TypeAdapter<SetGameServerInstanceStateResult> {
+        private SetGameServerInstanceStateResultAdapter(Gson gson) {
+        }
+
+        @Override
+        public void write(JsonWriter out, SetGameServerInstanceStateResult value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.endObject();
+        }
+
+        @Override
+        public SetGameServerInstanceStateResult read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            SetGameServerInstanceStateResult value = new SetGameServerInstanceStateResult();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class SetGameServerInstanceTagsRequestAdapter extends TypeAdapter<SetGameServerInstanceTagsRequest> {
+        private final TypeAdapter<String> stringAdapter;
+
+        private SetGameServerInstanceTagsRequestAdapter(Gson gson) {
+            stringAdapter = gson.getAdapter(String.class);
+        }
+
+        @Override
+        public void write(JsonWriter out, SetGameServerInstanceTagsRequest value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.name("LobbyId").value(value.LobbyId);
+            PlayFabJson.writeMap(out.name("Tags"), value.Tags, stringAdapter);
+            out.endObject();
+        }
+
+        @Override
+        public SetGameServerInstanceTagsRequest read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            SetGameServerInstanceTagsRequest value = new SetGameServerInstanceTagsRequest();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "LobbyId": value.LobbyId = PlayFabJson.readString(in); break;
+                        case "Tags": value.Tags = PlayFabJson.readMap(in, stringAdapter); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class SetGameServerInstanceTagsResultAdapter extends TypeAdapter<SetGameServerInstanceTagsResult> {
+        private SetGameServerInstanceTagsResultAdapter(Gson gson) {
+        }
+
+        @Override
+        public void write(JsonWriter out, SetGameServerInstanceTagsResult value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.endObject();
+        }
+
+        @Override
+        public SetGameServerInstanceTagsResult read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            SetGameServerInstanceTagsResult value = new SetGameServerInstanceTagsResult();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class SetPlayerSecretRequestAdapter extends TypeAdapter<SetPlayerSecretRequest> {
+        private SetPlayerSecretRequestAdapter(Gson gson) {
+        }
+
+        @Override
+        public void write(JsonWriter out, SetPlayerSecretRequest value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.name("PlayerSecret").value(value.PlayerSecret);
+            out.name("PlayFabId").value(value.PlayFabId);
+            out.endObject();
+        }
+
+        @Override
+        public SetPlayerSecretRequest read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            SetPlayerSecretRequest value = new SetPlayerSecretRequest();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "PlayerSecret": value.PlayerSecret = PlayFabJson.readString(in); break;
+                        case "PlayFabId": value.PlayFabId = PlayFabJson.readString(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class SetPlayerSecretResultAdapter extends TypeAdapter<SetPlayerSecretResult> {
+        private SetPlayerSecretResultAdapter(Gson gson) {
+        }
+
+        @Override
+        public void write(JsonWriter out, SetPlayerSecretResult value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.endObject();
+        }
+
+        @Override
+        public SetPlayerSecretResult read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            SetPlayerSecretResult value = new SetPlayerSecretResult();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class SetPublisherDataRequestAdapter extends TypeAdapter<SetPublisherDataRequest> {
+        private SetPublisherDataRequestAdapter(Gson gson) {
+        }
+
+        @Override
+        public void write(JsonWriter out, SetPublisherDataRequest value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.name("Key").value(value.Key);
+            out.name("Value").value(value.Value);
+            out.endObject();
+        }
+
+        @Override
+        public SetPublisherDataRequest read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            SetPublisherDataRequest value = new SetPublisherDataRequest();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "Key": value.Key = PlayFabJson.readString(in); break;
+                        case "Value": value.Value = PlayFabJson.readString(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class SetPublisherDataResultAdapter extends TypeAdapter<SetPublisherDataResult> {
+        private SetPublisherDataResultAdapter(Gson gson) {
+        }
+
+        @Override
+        public void write(JsonWriter out, SetPublisherDataResult value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.endObject();
+        }
+
+        @Override
+        public SetPublisherDataResult read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            SetPublisherDataResult value = new SetPublisherDataResult();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class SetTitleDataRequestAdapter extends TypeAdapter<SetTitleDataRequest> {
+        private SetTitleDataRequestAdapter(Gson gson) {
+        }
+
+        @Override
+        public void write(JsonWriter out, SetTitleDataRequest value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.name("Key").value(value.Key);
+            out.name("Value").value(value.Value);
+            out.endObject();
+        }
+
+        @Override
+        public SetTitleDataRequest read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            SetTitleDataRequest value = new SetTitleDataRequest();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "Key": value.Key = PlayFabJson.readString(in); break;
+                        case "Value": value.Value = PlayFabJson.readString(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class SetTitleDataResultAdapter extends TypeAdapter<SetTitleDataResult> {
+        private SetTitleDataResultAdapter(Gson gson) {
+        }
+
+        @Override
+        public void write(JsonWriter out, SetTitleDataResult value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.endObject();
+        }
+
+        @Override
+        public SetTitleDataResult read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            SetTitleDataResult value = new SetTitleDataResult();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class SharedGroupDataRecordAdapter extends TypeAdapter<SharedGroupDataRecord> {
+        private final TypeAdapter<Date> dateAdapter;
+        private final TypeAdapter<UserDataPermission> userDataPermissionAdapter;
+
+        private SharedGroupDataRecordAdapter(Gson gson) {
+            dateAdapter = gson.getAdapter(Date.class);
+            userDataPermissionAdapter = gson.getAdapter(UserDataPermission.class);
+        }
+
+        @Override
+        public void write(JsonWriter out, SharedGroupDataRecord value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            dateAdapter.write(out.name("LastUpdated"), value.LastUpdated);
+            out.name("LastUpdatedBy").value(value.LastUpdatedBy);
+            userDataPermissionAdapter.write(out.name("Permission"), value.Permission);
+            out.name("Value").value(value.Value);
+            out.endObject();
+        }
+
+        @Override
+        public SharedGroupDataRecord read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            SharedGroupDataRecord value = new SharedGroupDataRecord();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "LastUpdated": value.LastUpdated = dateAdapter.read(in); break;
+                        case "LastUpdatedBy": value.LastUpdatedBy = PlayFabJson.readString(in); break;
+                        case "Permission": value.Permission = userDataPermissionAdapter.read(in); break;
+                        case "Value": value.Value = PlayFabJson.readString(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class StatisticModelAdapter extends TypeAdapter<StatisticModel> {
+        private StatisticModelAdapter(Gson gson) {
+        }
+
+        @Override
+        public void write(JsonWriter out, StatisticModel value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.name("Name").value(value.Name);
+            out.name("Value").value(value.Value);
+            out.name("Version").value(value.Version);
+            out.endObject();
+        }
+
+        @Override
+        public StatisticModel read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            StatisticModel value = new StatisticModel();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "Name": value.Name = PlayFabJson.readString(in); break;
+                        case "Value": value.Value = PlayFabJson.readInteger(in); break;
+                        case "Version": value.Version = PlayFabJson.readInteger(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class StatisticNameVersionAdapter extends TypeAdapter<StatisticNameVersion> {
+        private StatisticNameVersionAdapter(Gson gson) {
+        }
+
+        @Override
+        public void write(JsonWriter out, StatisticNameVersion value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.name("StatisticName").value(value.StatisticName);
+            out.name("Version").value(value.Version);
+            out.endObject();
+        }
+
+        @Override
+        public StatisticNameVersion read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            StatisticNameVersion value = new StatisticNameVersion();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "StatisticName": value.StatisticName = PlayFabJson.readString(in); break;
+                        case "Version": value.Version = PlayFabJson.readLong(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class StatisticUpdateAdapter extends TypeAdapter<StatisticUpdate> {
+        private StatisticUpdateAdapter(Gson gson) {
+        }
+
+        @Override
+        public void write(JsonWriter out, StatisticUpdate value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.name("StatisticName").value(value.StatisticName);
+            out.name("Value").value(value.Value);
+            out.name("Version").value(value.Version);
+            out.endObject();
+        }
+
+        @Override
+        public StatisticUpdate read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            StatisticUpdate value = new StatisticUpdate();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "StatisticName": value.StatisticName = PlayFabJson.readString(in); break;
+                        case "Value": value.Value = PlayFabJson.readInteger(in); break;
+                        case "Version": value.Version = PlayFabJson.readLong(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class StatisticValueAdapter extends TypeAdapter<StatisticValue> {
+        private StatisticValueAdapter(Gson gson) {
+        }
+
+        @Override
+        public void write(JsonWriter out, StatisticValue value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.name("StatisticName").value(value.StatisticName);
+            out.name("Value").value(value.Value);
+            out.name("Version").value(value.Version);
+            out.endObject();
+        }
+
+        @Override
+        public StatisticValue read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            StatisticValue value = new StatisticValue();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "StatisticName": value.StatisticName = PlayFabJson.readString(in); break;
+                        case "Value": value.Value = PlayFabJson.readInteger(in); break;
+                        case "Version": value.Version = PlayFabJson.readLong(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class SteamPlayFabIdPairAdapter extends TypeAdapter<SteamPlayFabIdPair> {
+        private SteamPlayFabIdPairAdapter(Gson gson) {
+        }
+
+        @Override
+        public void write(JsonWriter out, SteamPlayFabIdPair value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.name("PlayFabId").value(value.PlayFabId);
+            out.name("SteamStringId").value(value.SteamStringId);
+            out.endObject();
+        }
+
+        @Override
+        public SteamPlayFabIdPair read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            SteamPlayFabIdPair value = new SteamPlayFabIdPair();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "PlayFabId": value.PlayFabId = PlayFabJson.readString(in); break;
+                        case "SteamStringId": value.SteamStringId = PlayFabJson.readString(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class StoreItemAdapter extends TypeAdapter<StoreItem> {
+        private final TypeAdapter<Object> objectAdapter;
+        private final TypeAdapter<Long> longAdapter;
+
+        private StoreItemAdapter(Gson gson) {
+            objectAdapter = gson.getAdapter(Object.class);
+            longAdapter = gson.getAdapter(Long.class);
+        }
+
+        @Override
+        public void write(JsonWriter out, StoreItem value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            objectAdapter.write(out.name("CustomData"), value.CustomData);
+            out.name("DisplayPosition").value(value.DisplayPosition);
+            out.name("ItemId").value(value.ItemId);
+            PlayFabJson.writeMap(out.name("RealCurrencyPrices"), value.RealCurrencyPrices, longAdapter);
+            PlayFabJson.writeMap(out.name("VirtualCurrencyPrices"), value.VirtualCurrencyPrices, longAdapter);
+            out.endObject();
+        }
+
+        @Override
+        public StoreItem read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            StoreItem value = new StoreItem();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "CustomData": value.CustomData = objectAdapter.read(in); break;
+                        case "DisplayPosition": value.DisplayPosition = PlayFabJson.readLong(in); break;
+                        case "ItemId": value.ItemId = PlayFabJson.readString(in); break;
+                        case "RealCurrencyPrices": value.RealCurrencyPrices = PlayFabJson.readMap(in, longAdapter); break;
+                        case "VirtualCurrencyPrices": value.VirtualCurrencyPrices = PlayFabJson.readMap(in, longAdapter); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class StoreMarketingModelAdapter extends TypeAdapter<StoreMarketingModel> {
+        private final TypeAdapter<Object> objectAdapter;
+
+        private StoreMarketingModelAdapter(Gson gson) {
+            objectAdapter = gson.getAdapter(Object.class);
+        }
+
+        @Override
+        public void write(JsonWriter out, StoreMarketingModel value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.name("Description").value(value.Description);
+            out.name("DisplayName").value(value.DisplayName);
+            objectAdapter.write(out.name("Metadata"), value.Metadata);
+            out.endObject();
+        }
+
+        @Override
+        public StoreMarketingModel read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            StoreMarketingModel value = new StoreMarketingModel();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "Description": value.Description = PlayFabJson.readString(in); break;
+                        case "DisplayName": value.DisplayName = PlayFabJson.readString(in); break;
+                        case "Metadata": value.Metadata = objectAdapter.read(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class SubscriptionModelAdapter extends TypeAdapter<SubscriptionModel> {
+        private final TypeAdapter<Date> dateAdapter;
+        private final TypeAdapter<SubscriptionProviderStatus> subscriptionProviderStatusAdapter;
+
+        private SubscriptionModelAdapter(Gson gson) {
+            dateAdapter = gson.getAdapter(Date.class);
+            subscriptionProviderStatusAdapter = gson.getAdapter(SubscriptionProviderStatus.class);
+        }
+
+        @Override
+        public void write(JsonWriter out, SubscriptionModel value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            dateAdapter.write(out.name("Expiration"), value.Expiration);
+            dateAdapter.write(out.name("InitialSubscriptionTime"), value.InitialSubscriptionTime);
+            out.name("IsActive").value(value.IsActive);
+            subscriptionProviderStatusAdapter.write(out.name("Status"), value.Status);
+            out.name("SubscriptionId").value(value.SubscriptionId);
+            out.name("SubscriptionItemId").value(value.SubscriptionItemId);
+            out.name("SubscriptionProvider").value(value.SubscriptionProvider);
+            out.endObject();
+        }
+
+        @Override
+        public SubscriptionModel read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            SubscriptionModel value = new SubscriptionModel();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "Expiration": value.Expiration = dateAdapter.read(in); break;
+                        case "InitialSubscriptionTime": value.InitialSubscriptionTime = dateAdapter.read(in); break;
+                        case "IsActive": value.IsActive = PlayFabJson.readBoolean(in); break;
+                        case "Status": value.Status = subscriptionProviderStatusAdapter.read(in); break;
+                        case "SubscriptionId": value.SubscriptionId = PlayFabJson.readString(in); break;
+                        case "SubscriptionItemId": value.SubscriptionItemId = PlayFabJson.readString(in); break;
+                        case "SubscriptionProvider": value.SubscriptionProvider = PlayFabJson.readString(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class SubtractCharacterVirtualCurrencyRequestAdapter extends TypeAdapter<SubtractCharacterVirtualCurrencyRequest> {
+        private final TypeAdapter<String> stringAdapter;
+
+        private SubtractCharacterVirtualCurrencyRequestAdapter(Gson gson) {
+            stringAdapter = gson.getAdapter(String.class);
+        }
+
+        @Override
+        public void write(JsonWriter out, SubtractCharacterVirtualCurrencyRequest value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.name("Amount").value(value.Amount);
+            out.name("CharacterId").value(value.CharacterId);
+            PlayFabJson.writeMap(out.name("CustomTags"), value.CustomTags, stringAdapter);
+            out.name("PlayFabId").value(value.PlayFabId);
+            out.name("VirtualCurrency").value(value.VirtualCurrency);
+            out.endObject();
+        }
+
+        @Override
+        public SubtractCharacterVirtualCurrencyRequest read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            SubtractCharacterVirtualCurrencyRequest value = new SubtractCharacterVirtualCurrencyRequest();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "Amount": value.Amount = PlayFabJson.readInteger(in); break;
+                        case "CharacterId": value.CharacterId = PlayFabJson.readString(in); break;
+                        case "CustomTags": value.CustomTags = PlayFabJson.readMap(in, stringAdapter); break;
+                        case "PlayFabId": value.PlayFabId = PlayFabJson.readString(in); break;
+                        case "VirtualCurrency": value.VirtualCurrency = PlayFabJson.readString(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class SubtractUserVirtualCurrencyRequestAdapter extends TypeAdapter<SubtractUserVirtualCurrencyRequest> {
+        private final TypeAdapter<String> stringAdapter;
+
+        private SubtractUserVirtualCurrencyRequestAdapter(Gson gson) {
+            stringAdapter = gson.getAdapter(String.class);
+        }
+
+        @Override
+        public void write(JsonWriter out, SubtractUserVirtualCurrencyRequest value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.name("Amount").value(value.Amount);
+            PlayFabJson.writeMap(out.name("CustomTags"), value.CustomTags, stringAdapter);
+            out.name("PlayFabId").value(value.PlayFabId);
+            out.name("VirtualCurrency").value(value.VirtualCurrency);
+            out.endObject();
+        }
+
+        @Override
+        public SubtractUserVirtualCurrencyRequest read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            SubtractUserVirtualCurrencyRequest value = new SubtractUserVirtualCurrencyRequest();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "Amount": value.Amount = PlayFabJson.readInteger(in); break;
+                        case "CustomTags": value.CustomTags = PlayFabJson.readMap(in, stringAdapter); break;
+                        case "PlayFabId": value.PlayFabId = PlayFabJson.readString(in); break;
+                        case "VirtualCurrency": value.VirtualCurrency = PlayFabJson.readString(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class TagModelAdapter extends TypeAdapter<TagModel> {
+        private TagModelAdapter(Gson gson) {
+        }
+
+        @Override
+        public void write(JsonWriter out, TagModel value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.name("TagValue").value(value.TagValue);
+            out.endObject();
+        }
+
+        @Override
+        public TagModel read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            TagModel value = new TagModel();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "TagValue": value.TagValue = PlayFabJson.readString(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class TitleNewsItemAdapter extends TypeAdapter<TitleNewsItem> {
+        private final TypeAdapter<Date> dateAdapter;
+
+        private TitleNewsItemAdapter(Gson gson) {
+            dateAdapter = gson.getAdapter(Date.class);
+        }
+
+        @Override
+        public void write(JsonWriter out, TitleNewsItem value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.name("Body").value(value.Body);
+            out.name("NewsId").value(value.NewsId);
+            dateAdapter.write(out.name("Timestamp"), value.Timestamp);
+            out.name("Title").value(value.Title);
+            out.endObject();
+        }
+
+        @Override
+        public TitleNewsItem read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            TitleNewsItem value = new TitleNewsItem();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "Body": value.Body = PlayFabJson.readString(in); break;
+                        case "NewsId": value.NewsId = PlayFabJson.readString(in); break;
+                        case "Timestamp": value.Timestamp = dateAdapter.read(in); break;
+                        case "Title": value.Title = PlayFabJson.readString(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class TreatmentAssignmentAdapter extends TypeAdapter<TreatmentAssignment> {
+        private final TypeAdapter<Variable> variableAdapter;
+        private final TypeAdapter<String> stringAdapter;
+
+        private TreatmentAssignmentAdapter(Gson gson) {
+            variableAdapter = gson.getAdapter(Variable.class);
+            stringAdapter = gson.getAdapter(String.class);
+        }
+
+        @Override
+        public void write(JsonWriter out, TreatmentAssignment value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            PlayFabJson.writeList(out.name("Variables"), value.Variables, variableAdapter);
+            PlayFabJson.writeList(out.name("Variants"), value.Variants, stringAdapter);
+            out.endObject();
+        }
+
+        @Override
+        public TreatmentAssignment read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            TreatmentAssignment value = new TreatmentAssignment();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "Variables": value.Variables = PlayFabJson.readList(in, variableAdapter); break;
+                        case "Variants": value.Variants = PlayFabJson.readList(in, stringAdapter); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class UnlinkPSNAccountRequestAdapter extends TypeAdapter<UnlinkPSNAccountRequest> {
+        private final TypeAdapter<String> stringAdapter;
+
+        private UnlinkPSNAccountRequestAdapter(Gson gson) {
+            stringAdapter = gson.getAdapter(String.class);
+        }
+
+        @Override
+        public void write(JsonWriter out, UnlinkPSNAccountRequest value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            PlayFabJson.writeMap(out.name("CustomTags"), value.CustomTags, stringAdapter);
+            out.name("PlayFabId").value(value.PlayFabId);
+            out.endObject();
+        }
+
+        @Override
+        public UnlinkPSNAccountRequest read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            UnlinkPSNAccountRequest value = new UnlinkPSNAccountRequest();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "CustomTags": value.CustomTags = PlayFabJson.readMap(in, stringAdapter); break;
+                        case "PlayFabId": value.PlayFabId = PlayFabJson.readString(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class UnlinkPSNAccountResultAdapter extends TypeAdapter<UnlinkPSNAccountResult> {
+        private UnlinkPSNAccountResultAdapter(Gson gson) {
+        }
+
+        @Override
+        public void write(JsonWriter out, UnlinkPSNAccountResult value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.endObject();
+        }
+
+        @Override
+        public UnlinkPSNAccountResult read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            UnlinkPSNAccountResult value = new UnlinkPSNAccountResult();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class UnlinkServerCustomIdRequestAdapter extends TypeAdapter<UnlinkServerCustomIdRequest> {
+        private final TypeAdapter<String> stringAdapter;
+
+        private UnlinkServerCustomIdRequestAdapter(Gson gson) {
+            stringAdapter = gson.getAdapter(String.class);
+        }
+
+        @Override
+        public void write(JsonWriter out, UnlinkServerCustomIdRequest value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            PlayFabJson.writeMap(out.name("CustomTags"), value.CustomTags, stringAdapter);
+            out.name("PlayFabId").value(value.PlayFabId);
+            out.name("ServerCustomId").value(value.ServerCustomId);
+            out.endObject();
+        }
+
+        @Override
+        public UnlinkServerCustomIdRequest read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            UnlinkServerCustomIdRequest value = new UnlinkServerCustomIdRequest();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "CustomTags": value.CustomTags = PlayFabJson.readMap(in, stringAdapter); break;
+                        case "PlayFabId": value.PlayFabId = PlayFabJson.readString(in); break;
+                        case "ServerCustomId": value.ServerCustomId = PlayFabJson.readString(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class UnlinkServerCustomIdResultAdapter extends TypeAdapter<UnlinkServerCustomIdResult> {
+        private UnlinkServerCustomIdResultAdapter(Gson gson) {
+        }
+
+        @Override
+        public void write(JsonWriter out, UnlinkServerCustomIdResult value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.endObject();
+        }
+
+        @Override
+        public UnlinkServerCustomIdResult read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            UnlinkServerCustomIdResult value = new UnlinkServerCustomIdResult();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class UnlinkXboxAccountRequestAdapter extends TypeAdapter<UnlinkXboxAccountRequest> {
+        private final TypeAdapter<String> stringAdapter;
+
+        private UnlinkXboxAccountRequestAdapter(Gson gson) {
+            stringAdapter = gson.getAdapter(String.class);
+        }
+
+        @Override
+        public void write(JsonWriter out, UnlinkXboxAccountRequest value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            PlayFabJson.writeMap(out.name("CustomTags"), value.CustomTags, stringAdapter);
+            out.name("PlayFabId").value(value.PlayFabId);
+            out.endObject();
+        }
+
+        @Override
+        public UnlinkXboxAccountRequest read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            UnlinkXboxAccountRequest value = new UnlinkXboxAccountRequest();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "CustomTags": value.CustomTags = PlayFabJson.readMap(in, stringAdapter); break;
+                        case "PlayFabId": value.PlayFabId = PlayFabJson.readString(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class UnlinkXboxAccountResultAdapter extends TypeAdapter<UnlinkXboxAccountResult> {
+        private UnlinkXboxAccountResultAdapter(Gson gson) {
+        }
+
+        @Override
+        public void write(JsonWriter out, UnlinkXboxAccountResult value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.endObject();
+        }
+
+        @Override
+        public UnlinkXboxAccountResult read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            UnlinkXboxAccountResult value = new UnlinkXboxAccountResult();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class UnlockContainerInstanceRequestAdapter extends TypeAdapter<UnlockContainerInstanceRequest> {
+        private final TypeAdapter<String> stringAdapter;
+
+        private UnlockContainerInstanceRequestAdapter(Gson gson) {
+            stringAdapter = gson.getAdapter(String.class);
+        }
+
+        @Override
+        public void write(JsonWriter out, UnlockContainerInstanceRequest value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.name("CatalogVersion").value(value.CatalogVersion);
+            out.name("CharacterId").value(value.CharacterId);
+            out.name("ContainerItemInstanceId").value(value.ContainerItemInstanceId);
+            PlayFabJson.writeMap(out.name("CustomTags"), value.CustomTags, stringAdapter);
+            out.name("KeyItemInstanceId").value(value.KeyItemInstanceId);
+            out.name("PlayFabId").value(value.PlayFabId);
+            out.endObject();
+        }
+
+        @Override
+        public UnlockContainerInstanceRequest read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            UnlockContainerInstanceRequest value = new UnlockContainerInstanceRequest();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "CatalogVersion": value.CatalogVersion = PlayFabJson.readString(in); break;
+                        case "CharacterId": value.CharacterId = PlayFabJson.readString(in); break;
+                        case "ContainerItemInstanceId": value.ContainerItemInstanceId = PlayFabJson.readString(in); break;
+                        case "CustomTags": value.CustomTags = PlayFabJson.readMap(in, stringAdapter); break;
+                        case "KeyItemInstanceId": value.KeyItemInstanceId = PlayFabJson.readString(in); break;
+                        case "PlayFabId": value.PlayFabId = PlayFabJson.readString(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class UnlockContainerItemRequestAdapter extends TypeAdapter<UnlockContainerItemRequest> {
+        private final TypeAdapter<String> stringAdapter;
+
+        private UnlockContainerItemRequestAdapter(Gson gson) {
+            stringAdapter = gson.getAdapter(String.class);
+        }
+
+        @Override
+        public void write(JsonWriter out, UnlockContainerItemRequest value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.name("CatalogVersion").value(value.CatalogVersion);
+            out.name("CharacterId").value(value.CharacterId);
+            out.name("ContainerItemId").value(value.ContainerItemId);
+            PlayFabJson.writeMap(out.name("CustomTags"), value.CustomTags, stringAdapter);
+            out.name("PlayFabId").value(value.PlayFabId);
+            out.endObject();
+        }
+
+        @Override
+        public UnlockContainerItemRequest read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            UnlockContainerItemRequest value = new UnlockContainerItemRequest();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "CatalogVersion": value.CatalogVersion = PlayFabJson.readString(in); break;
+                        case "CharacterId": value.CharacterId = PlayFabJson.readString(in); break;
+                        case "ContainerItemId": value.ContainerItemId = PlayFabJson.readString(in); break;
+                        case "CustomTags": value.CustomTags = PlayFabJson.readMap(in, stringAdapter); break;
+                        case "PlayFabId": value.PlayFabId = PlayFabJson.readString(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class UnlockContainerItemResultAdapter extends TypeAdapter<UnlockContainerItemResult> {
+        private final TypeAdapter<ItemInstance> itemInstanceAdapter;
+        private final TypeAdapter<Long> longAdapter;
+
+        private UnlockContainerItemResultAdapter(Gson gson) {
+            itemInstanceAdapter = gson.getAdapter(ItemInstance.class);
+            longAdapter = gson.getAdapter(Long.class);
+        }
+
+        @Override
+        public void write(JsonWriter out, UnlockContainerItemResult value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            PlayFabJson.writeList(out.name("GrantedItems"), value.GrantedItems, itemInstanceAdapter);
+            out.name("UnlockedItemInstanceId").value(value.UnlockedItemInstanceId);
+            out.name("UnlockedWithItemInstanceId").value(value.UnlockedWithItemInstanceId);
+            PlayFabJson.writeMap(out.name("VirtualCurrency"), value.VirtualCurrency, longAdapter);
+            out.endObject();
+        }
+
+        @Override
+        public UnlockContainerItemResult read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            UnlockContainerItemResult value = new UnlockContainerItemResult();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "GrantedItems": value.GrantedItems = PlayFabJson.readList(in, itemInstanceAdapter); break;
+                        case "UnlockedItemInstanceId": value.UnlockedItemInstanceId = PlayFabJson.readString(in); break;
+                        case "UnlockedWithItemInstanceId": value.UnlockedWithItemInstanceId = PlayFabJson.readString(in); break;
+                        case "VirtualCurrency": value.VirtualCurrency = PlayFabJson.readMap(in, longAdapter); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class UpdateAvatarUrlRequestAdapter extends TypeAdapter<UpdateAvatarUrlRequest> {
+        private UpdateAvatarUrlRequestAdapter(Gson gson) {
+        }
+
+        @Override
+        public void write(JsonWriter out, UpdateAvatarUrlRequest value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.name("ImageUrl").value(value.ImageUrl);
+            out.name("PlayFabId").value(value.PlayFabId);
+            out.endObject();
+        }
+
+        @Override
+        public UpdateAvatarUrlRequest read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            UpdateAvatarUrlRequest value = new UpdateAvatarUrlRequest();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "ImageUrl": value.ImageUrl = PlayFabJson.readString(in); break;
+                        case "PlayFabId": value.PlayFabId = PlayFabJson.readString(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class UpdateBanRequestAdapter extends TypeAdapter<UpdateBanRequest> {
+        private final TypeAdapter<Date> dateAdapter;
+
+        private UpdateBanRequestAdapter(Gson gson) {
+            dateAdapter = gson.getAdapter(Date.class);
+        }
+
+        @Override
+        public void write(JsonWriter out, UpdateBanRequest value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.name("Active").value(value.Active);
+            out.name("BanId").value(value.BanId);
+            dateAdapter.write(out.name("Expires"), value.Expires);
+            out.name("IPAddress").value(value.IPAddress);
+            out.name("MACAddress").value(value.MACAddress);
+            out.name("Permanent").value(value.Permanent);
+            out.name("Reason").value(value.Reason);
+            out.endObject();
+        }
+
+        @Override
+        public UpdateBanRequest read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            UpdateBanRequest value = new UpdateBanRequest();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "Active": value.Active = PlayFabJson.readBoolean(in); break;
+                        case "BanId": value.BanId = PlayFabJson.readString(in); break;
+                        case "Expires": value.Expires = dateAdapter.read(in); break;
+                        case "IPAddress": value.IPAddress = PlayFabJson.readString(in); break;
+                        case "MACAddress": value.MACAddress = PlayFabJson.readString(in); break;
+                        case "Permanent": value.Permanent = PlayFabJson.readBoolean(in); break;
+                        case "Reason": value.Reason = PlayFabJson.readString(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class UpdateBansRequestAdapter extends TypeAdapter<UpdateBansRequest> {
+        private final TypeAdapter<UpdateBanRequest> updateBanRequestAdapter;
+
+        private UpdateBansRequestAdapter(Gson gson) {
+            updateBanRequestAdapter = gson.getAdapter(UpdateBanRequest.class);
+        }
+
+        @Override
+        public void write(JsonWriter out, UpdateBansRequest value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            PlayFabJson.writeList(out.name("Bans"), value.Bans, updateBanRequestAdapter);
+            out.endObject();
+        }
+
+        @Override
+        public UpdateBansRequest read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            UpdateBansRequest value = new UpdateBansRequest();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "Bans": value.Bans = PlayFabJson.readList(in, updateBanRequestAdapter); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class UpdateBansResultAdapter extends TypeAdapter<UpdateBansResult> {
+        private final TypeAdapter<BanInfo> banInfoAdapter;
+
+        private UpdateBansResultAdapter(Gson gson) {
+            banInfoAdapter = gson.getAdapter(BanInfo.class);
+        }
+
+        @Override
+        public void write(JsonWriter out, UpdateBansResult value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            PlayFabJson.writeList(out.name("BanData"), value.BanData, banInfoAdapter);
+            out.endObject();
+        }
+
+        @Override
+        public UpdateBansResult read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            UpdateBansResult value = new UpdateBansResult();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "BanData": value.BanData = PlayFabJson.readList(in, banInfoAdapter); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class UpdateCharacterDataRequestAdapter extends TypeAdapter<UpdateCharacterDataRequest> {
+        private final TypeAdapter<String> stringAdapter;
+        private final TypeAdapter<UserDataPermission> userDataPermissionAdapter;
+
+        private UpdateCharacterDataRequestAdapter(Gson gson) {
+            stringAdapter = gson.getAdapter(String.class);
+            userDataPermissionAdapter = gson.getAdapter(UserDataPermission.class);
+        }
+
+        @Override
+        public void write(JsonWriter out, UpdateCharacterDataRequest value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.name("CharacterId").value(value.CharacterId);
+            PlayFabJson.writeMap(out.name("CustomTags"), value.CustomTags, stringAdapter);
+            PlayFabJson.writeMap(out.name("Data"), value.Data, stringAdapter);
+            PlayFabJson.writeList(out.name("KeysToRemove"), value.KeysToRemove, stringAdapter);
+            userDataPermissionAdapter.write(out.name("Permission"), value.Permission);
+            out.name("PlayFabId").value(value.PlayFabId);
+            out.endObject();
+        }
+
+        @Override
+        public UpdateCharacterDataRequest read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            UpdateCharacterDataRequest value = new UpdateCharacterDataRequest();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "CharacterId": value.CharacterId = PlayFabJson.readString(in); break;
+                        case "CustomTags": value.CustomTags = PlayFabJson.readMap(in, stringAdapter); break;
+                        case "Data": value.Data = PlayFabJson.readMap(in, stringAdapter); break;
+                        case "KeysToRemove": value.KeysToRemove = PlayFabJson.readList(in, stringAdapter); break;
+                        case "Permission": value.Permission = userDataPermissionAdapter.read(in); break;
+                        case "PlayFabId": value.PlayFabId = PlayFabJson.readString(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class UpdateCharacterDataResultAdapter extends TypeAdapter<UpdateCharacterDataResult> {
+        private UpdateCharacterDataResultAdapter(Gson gson) {
+        }
+
+        @Override
+        public void write(JsonWriter out, UpdateCharacterDataResult value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.name("DataVersion").value(value.DataVersion);
+            out.endObject();
+        }
+
+        @Override
+        public UpdateCharacterDataResult read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            UpdateCharacterDataResult value = new UpdateCharacterDataResult();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "DataVersion": value.DataVersion = PlayFabJson.readLong(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class UpdateCharacterStatisticsRequestAdapter extends TypeAdapter<UpdateCharacterStatisticsRequest> {
+        private final TypeAdapter<Integer> integerAdapter;
+        private final TypeAdapter<String> stringAdapter;
+
+        private UpdateCharacterStatisticsRequestAdapter(Gson gson) {
+            integerAdapter = gson.getAdapter(Integer.class);
+            stringAdapter = gson.getAdapter(String.class);
+        }
+
+        @Override
+        public void write(JsonWriter out, UpdateCharacterStatisticsRequest value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.name("CharacterId").value(value.CharacterId);
+            PlayFabJson.writeMap(out.name("CharacterStatistics"), value.CharacterStatistics, integerAdapter);
+            PlayFabJson.writeMap(out.name("CustomTags"), value.CustomTags, stringAdapter);
+            out.name("PlayFabId").value(value.PlayFabId);
+            out.endObject();
+        }
+
+        @Override
+        public UpdateCharacterStatisticsRequest read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            UpdateCharacterStatisticsRequest value = new UpdateCharacterStatisticsRequest();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "CharacterId": value.CharacterId = PlayFabJson.readString(in); break;
+                        case "CharacterStatistics": value.CharacterStatistics = PlayFabJson.readMap(in, integerAdapter); break;
+                        case "CustomTags": value.CustomTags = PlayFabJson.readMap(in, stringAdapter); break;
+                        case "PlayFabId": value.PlayFabId = PlayFabJson.readString(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class UpdateCharacterStatisticsResultAdapter extends TypeAdapter<UpdateCharacterStatisticsResult> {
+        private UpdateCharacterStatisticsResultAdapter(Gson gson) {
+        }
+
+        @Override
+        public void write(JsonWriter out, UpdateCharacterStatisticsResult value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.endObject();
+        }
+
+        @Override
+        public UpdateCharacterStatisticsResult read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            UpdateCharacterStatisticsResult value = new UpdateCharacterStatisticsResult();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class UpdatePlayerStatisticsRequestAdapter extends TypeAdapter<UpdatePlayerStatisticsRequest> {
+        private final TypeAdapter<String> stringAdapter;
+        private final TypeAdapter<StatisticUpdate> statisticUpdateAdapter;
+
+        private UpdatePlayerStatisticsRequestAdapter(Gson gson) {
+            stringAdapter = gson.getAdapter(String.class);
+            statisticUpdateAdapter = gson.getAdapter(StatisticUpdate.class);
+        }
+
+        @Override
+        public void write(JsonWriter out, UpdatePlayerStatisticsRequest value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            PlayFabJson.writeMap(out.name("CustomTags"), value.CustomTags, stringAdapter);
+            out.name("ForceUpdate").value(value.ForceUpdate);
+            out.name("PlayFabId").value(value.PlayFabId);
+            PlayFabJson.writeList(out.name("Statistics"), value.Statistics, statisticUpdateAdapter);
+            out.endObject();
+        }
+
+        @Override
+        public UpdatePlayerStatisticsRequest read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            UpdatePlayerStatisticsRequest value = new UpdatePlayerStatisticsRequest();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "CustomTags": value.CustomTags = PlayFabJson.readMap(in, stringAdapter); break;
+                        case "ForceUpdate": value.ForceUpdate = PlayFabJson.readBoolean(in); break;
+                        case "PlayFabId": value.PlayFabId = PlayFabJson.readString(in); break;
+                        case "Statistics": value.Statistics = PlayFabJson.readList(in, statisticUpdateAdapter); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class UpdatePlayerStatisticsResultAdapter extends TypeAdapter<UpdatePlayerStatisticsResult> {
+        private UpdatePlayerStatisticsResultAdapter(Gson gson) {
+        }
+
+        @Override
+        public void write(JsonWriter out, UpdatePlayerStatisticsResult value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.endObject();
+        }
+
+        @Override
+        public UpdatePlayerStatisticsResult read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            UpdatePlayerStatisticsResult value = new UpdatePlayerStatisticsResult();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class UpdateSharedGroupDataRequestAdapter extends TypeAdapter<UpdateSharedGroupDataRequest> {
+        private final TypeAdapter<String> stringAdapter;
+        private final TypeAdapter<UserDataPermission> userDataPermissionAdapter;
+
+        private UpdateSharedGroupDataRequestAdapter(Gson gson) {
+            stringAdapter = gson.getAdapter(String.class);
+            userDataPermissionAdapter = gson.getAdapter(UserDataPermission.class);
+        }
+
+        @Override
+        public void write(JsonWriter out, UpdateSharedGroupDataRequest value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            PlayFabJson.writeMap(out.name("CustomTags"), value.CustomTags, stringAdapter);
+            PlayFabJson.writeMap(out.name("Data"), value.Data, stringAdapter);
+            PlayFabJson.writeList(out.name("KeysToRemove"), value.KeysToRemove, stringAdapter);
+            userDataPermissionAdapter.write(out.name("Permission"), value.Permission);
+            out.name("SharedGroupId").value(value.SharedGroupId);
+            out.endObject();
+        }
+
+        @Override
+        public UpdateSharedGroupDataRequest read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            UpdateSharedGroupDataRequest value = new UpdateSharedGroupDataRequest();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "CustomTags": value.CustomTags = PlayFabJson.readMap(in, stringAdapter); break;
+                        case "Data": value.Data = PlayFabJson.readMap(in, stringAdapter); break;
+                        case "KeysToRemove": value.KeysToRemove = PlayFabJson.readList(in, stringAdapter); break;
+                        case "Permission": value.Permission = userDataPermissionAdapter.read(in); break;
+                        case "SharedGroupId": value.SharedGroupId = PlayFabJson.readString(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class UpdateSharedGroupDataResultAdapter extends TypeAdapter<UpdateSharedGroupDataResult> {
+        private UpdateSharedGroupDataResultAdapter(Gson gson) {
+        }
+
+        @Override
+        public void write(JsonWriter out, UpdateSharedGroupDataResult value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.endObject();
+        }
+
+        @Override
+        public UpdateSharedGroupDataResult read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            UpdateSharedGroupDataResult value = new UpdateSharedGroupDataResult();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class UpdateUserDataRequestAdapter extends TypeAdapter<UpdateUserDataRequest> {
+        private final TypeAdapter<String> stringAdapter;
+        private final TypeAdapter<UserDataPermission> userDataPermissionAdapter;
+
+        private UpdateUserDataRequestAdapter(Gson gson) {
+            stringAdapter = gson.getAdapter(String.class);
+            userDataPermissionAdapter = gson.getAdapter(UserDataPermission.class);
+        }
+
+        @Override
+        public void write(JsonWriter out, UpdateUserDataRequest value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            PlayFabJson.writeMap(out.name("CustomTags"), value.CustomTags, stringAdapter);
+            PlayFabJson.writeMap(out.name("Data"), value.Data, stringAdapter);
+            PlayFabJson.writeList(out.name("KeysToRemove"), value.KeysToRemove, stringAdapter);
+            userDataPermissionAdapter.write(out.name("Permission"), value.Permission);
+            out.name("PlayFabId").value(value.PlayFabId);
+            out.endObject();
+        }
+
+        @Override
+        public UpdateUserDataRequest read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            UpdateUserDataRequest value = new UpdateUserDataRequest();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "CustomTags": value.CustomTags = PlayFabJson.readMap(in, stringAdapter); break;
+                        case "Data": value.Data = PlayFabJson.readMap(in, stringAdapter); break;
+                        case "KeysToRemove": value.KeysToRemove = PlayFabJson.readList(in, stringAdapter); break;
+                        case "Permission": value.Permission = userDataPermissionAdapter.read(in); break;
+                        case "PlayFabId": value.PlayFabId = PlayFabJson.readString(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class UpdateUserDataResultAdapter extends TypeAdapter<UpdateUserDataResult> {
+        private UpdateUserDataResultAdapter(Gson gson) {
+        }
+
+        @Override
+        public void write(JsonWriter out, UpdateUserDataResult value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.name("DataVersion").value(value.DataVersion);
+            out.endObject();
+        }
+
+        @Override
+        public UpdateUserDataResult read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            UpdateUserDataResult value = new UpdateUserDataResult();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "DataVersion": value.DataVersion = PlayFabJson.readLong(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class UpdateUserInternalDataRequestAdapter extends TypeAdapter<UpdateUserInternalDataRequest> {
+        private final TypeAdapter<String> stringAdapter;
+
+        private UpdateUserInternalDataRequestAdapter(Gson gson) {
+            stringAdapter = gson.getAdapter(String.class);
+        }
+
+        @Override
+        public void write(JsonWriter out, UpdateUserInternalDataRequest value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            PlayFabJson.writeMap(out.name("CustomTags"), value.CustomTags, stringAdapter);
+            PlayFabJson.writeMap(out.name("Data"), value.Data, stringAdapter);
+            PlayFabJson.writeList(out.name("KeysToRemove"), value.KeysToRemove, stringAdapter);
+            out.name("PlayFabId").value(value.PlayFabId);
+            out.endObject();
+        }
+
+        @Override
+        public UpdateUserInternalDataRequest read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            UpdateUserInternalDataRequest value = new UpdateUserInternalDataRequest();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "CustomTags": value.CustomTags = PlayFabJson.readMap(in, stringAdapter); break;
+                        case "Data": value.Data = PlayFabJson.readMap(in, stringAdapter); break;
+                        case "KeysToRemove": value.KeysToRemove = PlayFabJson.readList(in, stringAdapter); break;
+                        case "PlayFabId": value.PlayFabId = PlayFabJson.readString(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class UpdateUserInventoryItemDataRequestAdapter extends TypeAdapter<UpdateUserInventoryItemDataRequest> {
+        private final TypeAdapter<String> stringAdapter;
+
+        private UpdateUserInventoryItemDataRequestAdapter(Gson gson) {
+            stringAdapter = gson.getAdapter(String.class);
+        }
+
+        @Override
+        public void write(JsonWriter out, UpdateUserInventoryItemDataRequest value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.name("CharacterId").value(value.CharacterId);
+            PlayFabJson.writeMap(out.name("CustomTags"), value.CustomTags, stringAdapter);
+            PlayFabJson.writeMap(out.name("Data"), value.Data, stringAdapter);
+            out.name("ItemInstanceId").value(value.ItemInstanceId);
+            PlayFabJson.writeList(out.name("KeysToRemove"), value.KeysToRemove, stringAdapter);
+            out.name("PlayFabId").value(value.PlayFabId);
+            out.endObject();
+        }
+
+        @Override
+        public UpdateUserInventoryItemDataRequest read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            UpdateUserInventoryItemDataRequest value = new UpdateUserInventoryItemDataRequest();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "CharacterId": value.CharacterId = PlayFabJson.readString(in); break;
+                        case "CustomTags": value.CustomTags = PlayFabJson.readMap(in, stringAdapter); break;
+                        case "Data": value.Data = PlayFabJson.readMap(in, stringAdapter); break;
+                        case "ItemInstanceId": value.ItemInstanceId = PlayFabJson.readString(in); break;
+                        case "KeysToRemove": value.KeysToRemove = PlayFabJson.readList(in, stringAdapter); break;
+                        case "PlayFabId": value.PlayFabId = PlayFabJson.readString(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class UserAccountInfoAdapter extends TypeAdapter<UserAccountInfo> {
+        private final TypeAdapter<UserAndroidDeviceInfo> userAndroidDeviceInfoAdapter;
+        private final TypeAdapter<UserAppleIdInfo> userAppleIdInfoAdapter;
+        private final TypeAdapter<Date> dateAdapter;
+        private final TypeAdapter<UserCustomIdInfo> userCustomIdInfoAdapter;
+        private final TypeAdapter<UserFacebookInfo> userFacebookInfoAdapter;
+        private final TypeAdapter<UserFacebookInstantGamesIdInfo> userFacebookInstantGamesIdInfoAdapter;
+        private final TypeAdapter<UserGameCenterInfo> userGameCenterInfoAdapter;
+        private final TypeAdapter<UserGoogleInfo> userGoogleInfoAdapter;
+        private final TypeAdapter<UserIosDeviceInfo> userIosDeviceInfoAdapter;
+        private final TypeAdapter<UserKongregateInfo> userKongregateInfoAdapter;
+        private final TypeAdapter<UserNintendoSwitchAccountIdInfo> userNintendoSwitchAccountIdInfoAdapter;
+        private final TypeAdapter<UserNintendoSwitchDeviceIdInfo> userNintendoSwitchDeviceIdInfoAdapter;
+        private final TypeAdapter<UserOpenIdInfo> userOpenIdInfoAdapter;
+        private final TypeAdapter<UserPrivateAccountInfo> userPrivateAccountInfoAdapter;
+        private final TypeAdapter<UserPsnInfo> userPsnInfoAdapter;
+        private final TypeAdapter<UserSteamInfo> userSteamInfoAdapter;
+        private final TypeAdapter<UserTitleInfo> userTitleInfoAdapter;
+        private final TypeAdapter<UserTwitchInfo> userTwitchInfoAdapter;
+        private final TypeAdapter<UserXboxInfo> userXboxInfoAdapter;
+
+        private UserAccountInfoAdapter(Gson gson) {
+            userAndroidDeviceInfoAdapter = gson.getAdapter(UserAndroidDeviceInfo.class);
+            userAppleIdInfoAdapter = gson.getAdapter(UserAppleIdInfo.class);
+            dateAdapter = gson.getAdapter(Date.class);
+            userCustomIdInfoAdapter = gson.getAdapter(UserCustomIdInfo.class);
+            userFacebookInfoAdapter = gson.getAdapter(UserFacebookInfo.class);
+            userFacebookInstantGamesIdInfoAdapter = gson.getAdapter(UserFacebookInstantGamesIdInfo.class);
+            userGameCenterInfoAdapter = gson.getAdapter(UserGameCenterInfo.class);
+            userGoogleInfoAdapter = gson.getAdapter(UserGoogleInfo.class);
+            userIosDeviceInfoAdapter = gson.getAdapter(UserIosDeviceInfo.class);
+            userKongregateInfoAdapter = gson.getAdapter(UserKongregateInfo.class);
+            userNintendoSwitchAccountIdInfoAdapter = gson.getAdapter(UserNintendoSwitchAccountIdInfo.class);
+            userNintendoSwitchDeviceIdInfoAdapter = gson.getAdapter(UserNintendoSwitchDeviceIdInfo.class);
+            userOpenIdInfoAdapter = gson.getAdapter(UserOpenIdInfo.class);
+            userPrivateAccountInfoAdapter = gson.getAdapter(UserPrivateAccountInfo.class);
+            userPsnInfoAdapter = gson.getAdapter(UserPsnInfo.class);
+            userSteamInfoAdapter = gson.getAdapter(UserSteamInfo.class);
+            userTitleInfoAdapter = gson.getAdapter(UserTitleInfo.class);
+            userTwitchInfoAdapter = gson.getAdapter(UserTwitchInfo.class);
+            userXboxInfoAdapter = gson.getAdapter(UserXboxInfo.class);
+        }
+
+        @Override
+        public void write(JsonWriter out, UserAccountInfo value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            userAndroidDeviceInfoAdapter.write(out.name("AndroidDeviceInfo"), value.AndroidDeviceInfo);
+            userAppleIdInfoAdapter.write(out.name("AppleAccountInfo"), value.AppleAccountInfo);
+            dateAdapter.write(out.name("Created"), value.Created);
+            userCustomIdInfoAdapter.write(out.name("CustomIdInfo"), value.CustomIdInfo);
+            userFacebookInfoAdapter.write(out.name("FacebookInfo"), value.FacebookInfo);
+            userFacebookInstantGamesIdInfoAdapter.write(out.name("FacebookInstantGamesIdInfo"), value.FacebookInstantGamesIdInfo);
+            userGameCenterInfoAdapter.write(out.name("GameCenterInfo"), value.GameCenterInfo);
+            userGoogleInfoAdapter.write(out.name("GoogleInfo"), value.GoogleInfo);
+            userIosDeviceInfoAdapter.write(out.name("IosDeviceInfo"), value.IosDeviceInfo);
+            userKongregateInfoAdapter.write(out.name("KongregateInfo"), value.KongregateInfo);
+            userNintendoSwitchAccountIdInfoAdapter.write(out.name("NintendoSwitchAccountInfo"), value.NintendoSwitchAccountInfo);
+            userNintendoSwitchDeviceIdInfoAdapter.write(out.name("NintendoSwitchDeviceIdInfo"), value.NintendoSwitchDeviceIdInfo);
+            PlayFabJson.writeList(out.name("OpenIdInfo"), value.OpenIdInfo, userOpenIdInfoAdapter);
+            out.name("PlayFabId").value(value.PlayFabId);
+            userPrivateAccountInfoAdapter.write(out.name("PrivateInfo"), value.PrivateInfo);
+            userPsnInfoAdapter.write(out.name("PsnInfo"), value.PsnInfo);
+            userSteamInfoAdapter.write(out.name("SteamInfo"), value.SteamInfo);
+            userTitleInfoAdapter.write(out.name("TitleInfo"), value.TitleInfo);
+            userTwitchInfoAdapter.write(out.name("TwitchInfo"), value.TwitchInfo);
+            out.name("Username").value(value.Username);
+            userXboxInfoAdapter.write(out.name("XboxInfo"), value.XboxInfo);
+            out.endObject();
+        }
+
+        @Override
+        public UserAccountInfo read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            UserAccountInfo value = new UserAccountInfo();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "AndroidDeviceInfo": value.AndroidDeviceInfo = userAndroidDeviceInfoAdapter.read(in); break;
+                        case "AppleAccountInfo": value.AppleAccountInfo = userAppleIdInfoAdapter.read(in); break;
+                        case "Created": value.Created = dateAdapter.read(in); break;
+                        case "CustomIdInfo": value.CustomIdInfo = userCustomIdInfoAdapter.read(in); break;
+                        case "FacebookInfo": value.FacebookInfo = userFacebookInfoAdapter.read(in); break;
+                        case "FacebookInstantGamesIdInfo": value.FacebookInstantGamesIdInfo = userFacebookInstantGamesIdInfoAdapter.read(in); break;
+                        case "GameCenterInfo": value.GameCenterInfo = userGameCenterInfoAdapter.read(in); break;
+                        case "GoogleInfo": value.GoogleInfo = userGoogleInfoAdapter.read(in); break;
+                        case "IosDeviceInfo": value.IosDeviceInfo = userIosDeviceInfoAdapter.read(in); break;
+                        case "KongregateInfo": value.KongregateInfo = userKongregateInfoAdapter.read(in); break;
+                        case "NintendoSwitchAccountInfo": value.NintendoSwitchAccountInfo = userNintendoSwitchAccountIdInfoAdapter.read(in); break;
+                        case "NintendoSwitchDeviceIdInfo": value.NintendoSwitchDeviceIdInfo = userNintendoSwitchDeviceIdInfoAdapter.read(in); break;
+                        case "OpenIdInfo": value.OpenIdInfo = PlayFabJson.readList(in, userOpenIdInfoAdapter); break;
+                        case "PlayFabId": value.PlayFabId = PlayFabJson.readString(in); break;
+                        case "PrivateInfo": value.PrivateInfo = userPrivateAccountInfoAdapter.read(in); break;
+                        case "PsnInfo": value.PsnInfo = userPsnInfoAdapter.read(in); break;
+                        case "SteamInfo": value.SteamInfo = userSteamInfoAdapter.read(in); break;
+                        case "TitleInfo": value.TitleInfo = userTitleInfoAdapter.read(in); break;
+                        case "TwitchInfo": value.TwitchInfo = userTwitchInfoAdapter.read(in); break;
+                        case "Username": value.Username = PlayFabJson.readString(in); break;
+                        case "XboxInfo": value.XboxInfo = userXboxInfoAdapter.read(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class UserAndroidDeviceInfoAdapter extends TypeAdapter<UserAndroidDeviceInfo> {
+        private UserAndroidDeviceInfoAdapter(Gson gson) {
+        }
+
+        @Override
+        public void write(JsonWriter out, UserAndroidDeviceInfo value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.name("AndroidDeviceId").value(value.AndroidDeviceId);
+            out.endObject();
+        }
+
+        @Override
+        public UserAndroidDeviceInfo read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            UserAndroidDeviceInfo value = new UserAndroidDeviceInfo();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "AndroidDeviceId": value.AndroidDeviceId = PlayFabJson.readString(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class UserAppleIdInfoAdapter extends TypeAdapter<UserAppleIdInfo> {
+        private UserAppleIdInfoAdapter(Gson gson) {
+        }
+
+        @Override
+        public void write(JsonWriter out, UserAppleIdInfo value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.name("AppleSubjectId").value(value.AppleSubjectId);
+            out.endObject();
+        }
+
+        @Override
+        public UserAppleIdInfo read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            UserAppleIdInfo value = new UserAppleIdInfo();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "AppleSubjectId": value.AppleSubjectId = PlayFabJson.readString(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class UserCustomIdInfoAdapter extends TypeAdapter<UserCustomIdInfo> {
+        private UserCustomIdInfoAdapter(Gson gson) {
+        }
+
+        @Override
+        public void write(JsonWriter out, UserCustomIdInfo value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.name("CustomId").value(value.CustomId);
+            out.endObject();
+        }
+
+        @Override
+        public UserCustomIdInfo read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            UserCustomIdInfo value = new UserCustomIdInfo();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "CustomId": value.CustomId = PlayFabJson.readString(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class UserDataRecordAdapter extends TypeAdapter<UserDataRecord> {
+        private final TypeAdapter<Date> dateAdapter;
+        private final TypeAdapter<UserDataPermission> userDataPermissionAdapter;
+
+        private UserDataRecordAdapter(Gson gson) {
+            dateAdapter = gson.getAdapter(Date.class);
+            userDataPermissionAdapter = gson.getAdapter(UserDataPermission.class);
+        }
+
+        @Override
+        public void write(JsonWriter out, UserDataRecord value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            dateAdapter.write(out.name("LastUpdated"), value.LastUpdated);
+            userDataPermissionAdapter.write(out.name("Permission"), value.Permission);
+            out.name("Value").value(value.Value);
+            out.endObject();
+        }
+
+        @Override
+        public UserDataRecord read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            UserDataRecord value = new UserDataRecord();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "LastUpdated": value.LastUpdated = dateAdapter.read(in); break;
+                        case "Permission": value.Permission = userDataPermissionAdapter.read(in); break;
+                        case "Value": value.Value = PlayFabJson.readString(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class UserFacebookInfoAdapter extends TypeAdapter<UserFacebookInfo> {
+        private UserFacebookInfoAdapter(Gson gson) {
+        }
+
+        @Override
+        public void write(JsonWriter out, UserFacebookInfo value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.name("FacebookId").value(value.FacebookId);
+            out.name("FullName").value(value.FullName);
+            out.endObject();
+        }
+
+        @Override
+        public UserFacebookInfo read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            UserFacebookInfo value = new UserFacebookInfo();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "FacebookId": value.FacebookId = PlayFabJson.readString(in); break;
+                        case "FullName": value.FullName = PlayFabJson.readString(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class UserFacebookInstantGamesIdInfoAdapter extends TypeAdapter<UserFacebookInstantGamesIdInfo> {
+        private UserFacebookInstantGamesIdInfoAdapter(Gson gson) {
+        }
+
+        @Override
+        public void write(JsonWriter out, UserFacebookInstantGamesIdInfo value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.name("FacebookInstantGamesId").value(value.FacebookInstantGamesId);
+            out.endObject();
+        }
+
+        @Override
+        public UserFacebookInstantGamesIdInfo read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            UserFacebookInstantGamesIdInfo value = new UserFacebookInstantGamesIdInfo();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "FacebookInstantGamesId": value.FacebookInstantGamesId = PlayFabJson.readString(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class UserGameCenterInfoAdapter extends TypeAdapter<UserGameCenterInfo> {
+        private UserGameCenterInfoAdapter(Gson gson) {
+        }
+
+        @Override
+        public void write(JsonWriter out, UserGameCenterInfo value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.name("GameCenterId").value(value.GameCenterId);
+            out.endObject();
+        }
+
+        @Override
+        public UserGameCenterInfo read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            UserGameCenterInfo value = new UserGameCenterInfo();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "GameCenterId": value.GameCenterId = PlayFabJson.readString(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class UserGoogleInfoAdapter extends TypeAdapter<UserGoogleInfo> {
+        private UserGoogleInfoAdapter(Gson gson) {
+        }
+
+        @Override
+        public void write(JsonWriter out, UserGoogleInfo value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.name("GoogleEmail").value(value.GoogleEmail);
+            out.name("GoogleGender").value(value.GoogleGender);
+            out.name("GoogleId").value(value.GoogleId);
+            out.name("GoogleLocale").value(value.GoogleLocale);
+            out.name("GoogleName").value(value.GoogleName);
+            out.endObject();
+        }
+
+        @Override
+        public UserGoogleInfo read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            UserGoogleInfo value = new UserGoogleInfo();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "GoogleEmail": value.GoogleEmail = PlayFabJson.readString(in); break;
+                        case "GoogleGender": value.GoogleGender = PlayFabJson.readString(in); break;
+                        case "GoogleId": value.GoogleId = PlayFabJson.readString(in); break;
+                        case "GoogleLocale": value.GoogleLocale = PlayFabJson.readString(in); break;
+                        case "GoogleName": value.GoogleName = PlayFabJson.readString(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class UserIosDeviceInfoAdapter extends TypeAdapter<UserIosDeviceInfo> {
+        private UserIosDeviceInfoAdapter(Gson gson) {
+        }
+
+        @Override
+        public void write(JsonWriter out, UserIosDeviceInfo value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.name("IosDeviceId").value(value.IosDeviceId);
+            out.endObject();
+        }
+
+        @Override
+        public UserIosDeviceInfo read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            UserIosDeviceInfo value = new UserIosDeviceInfo();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "IosDeviceId": value.IosDeviceId = PlayFabJson.readString(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class UserKongregateInfoAdapter extends TypeAdapter<UserKongregateInfo> {
+        private UserKongregateInfoAdapter(Gson gson) {
+        }
+
+        @Override
+        public void write(JsonWriter out, UserKongregateInfo value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.name("KongregateId").value(value.KongregateId);
+            out.name("KongregateName").value(value.KongregateName);
+            out.endObject();
+        }
+
+        @Override
+        public UserKongregateInfo read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            UserKongregateInfo value = new UserKongregateInfo();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "KongregateId": value.KongregateId = PlayFabJson.readString(in); break;
+                        case "KongregateName": value.KongregateName = PlayFabJson.readString(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class UserNintendoSwitchAccountIdInfoAdapter extends TypeAdapter<UserNintendoSwitchAccountIdInfo> {
+        private UserNintendoSwitchAccountIdInfoAdapter(Gson gson) {
+        }
+
+        @Override
+        public void write(JsonWriter out, UserNintendoSwitchAccountIdInfo value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.name("NintendoSwitchAccountSubjectId").value(value.NintendoSwitchAccountSubjectId);
+            out.endObject();
+        }
+
+        @Override
+        public UserNintendoSwitchAccountIdInfo read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            UserNintendoSwitchAccountIdInfo value = new UserNintendoSwitchAccountIdInfo();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "NintendoSwitchAccountSubjectId": value.NintendoSwitchAccountSubjectId = PlayFabJson.readString(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class UserNintendoSwitchDeviceIdInfoAdapter extends TypeAdapter<UserNintendoSwitchDeviceIdInfo> {
+        private UserNintendoSwitchDeviceIdInfoAdapter(Gson gson) {
+        }
+
+        @Override
+        public void write(JsonWriter out, UserNintendoSwitchDeviceIdInfo value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.name("NintendoSwitchDeviceId").value(value.NintendoSwitchDeviceId);
+            out.endObject();
+        }
+
+        @Override
+        public UserNintendoSwitchDeviceIdInfo read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            UserNintendoSwitchDeviceIdInfo value = new UserNintendoSwitchDeviceIdInfo();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "NintendoSwitchDeviceId": value.NintendoSwitchDeviceId = PlayFabJson.readString(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class UserOpenIdInfoAdapter extends TypeAdapter<UserOpenIdInfo> {
+        private UserOpenIdInfoAdapter(Gson gson) {
+        }
+
+        @Override
+        public void write(JsonWriter out, UserOpenIdInfo value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.name("ConnectionId").value(value.ConnectionId);
+            out.name("Issuer").value(value.Issuer);
+            out.name("Subject").value(value.Subject);
+            out.endObject();
+        }
+
+        @Override
+        public UserOpenIdInfo read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            UserOpenIdInfo value = new UserOpenIdInfo();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "ConnectionId": value.ConnectionId = PlayFabJson.readString(in); break;
+                        case "Issuer": value.Issuer = PlayFabJson.readString(in); break;
+                        case "Subject": value.Subject = PlayFabJson.readString(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class UserPrivateAccountInfoAdapter extends TypeAdapter<UserPrivateAccountInfo> {
+        private UserPrivateAccountInfoAdapter(Gson gson) {
+        }
+
+        @Override
+        public void write(JsonWriter out, UserPrivateAccountInfo value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.name("Email").value(value.Email);
+            out.endObject();
+        }
+
+        @Override
+        public UserPrivateAccountInfo read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            UserPrivateAccountInfo value = new UserPrivateAccountInfo();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "Email": value.Email = PlayFabJson.readString(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class UserPsnInfoAdapter extends TypeAdapter<UserPsnInfo> {
+        private UserPsnInfoAdapter(Gson gson) {
+        }
+
+        @Override
+        public void write(JsonWriter out, UserPsnInfo value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.name("PsnAccountId").value(value.PsnAccountId);
+            out.name("PsnOnlineId").value(value.PsnOnlineId);
+            out.endObject();
+        }
+
+        @Override
+        public UserPsnInfo read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            UserPsnInfo value = new UserPsnInfo();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "PsnAccountId": value.PsnAccountId = PlayFabJson.readString(in); break;
+                        case "PsnOnlineId": value.PsnOnlineId = PlayFabJson.readString(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class UserSettingsAdapter extends TypeAdapter<UserSettings> {
+        private UserSettingsAdapter(Gson gson) {
+        }
+
+        @Override
+        public void write(JsonWriter out, UserSettings value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.name("GatherDeviceInfo").value(value.GatherDeviceInfo);
+            out.name("GatherFocusInfo").value(value.GatherFocusInfo);
+            out.name("NeedsAttribution").value(value.NeedsAttribution);
+            out.endObject();
+        }
+
+        @Override
+        public UserSettings read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            UserSettings value = new UserSettings();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "GatherDeviceInfo": value.GatherDeviceInfo = PlayFabJson.readBoolean(in); break;
+                        case "GatherFocusInfo": value.GatherFocusInfo = PlayFabJson.readBoolean(in); break;
+                        case "NeedsAttribution": value.NeedsAttribution = PlayFabJson.readBoolean(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class UserSteamInfoAdapter extends TypeAdapter<UserSteamInfo> {
+        private final TypeAdapter<TitleActivationStatus> titleActivationStatusAdapter;
+        private final TypeAdapter<Currency> currencyAdapter;
+
+        private UserSteamInfoAdapter(Gson gson) {
+            titleActivationStatusAdapter = gson.getAdapter(TitleActivationStatus.class);
+            currencyAdapter = gson.getAdapter(Currency.class);
+        }
+
+        @Override
+        public void write(JsonWriter out, UserSteamInfo value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            titleActivationStatusAdapter.write(out.name("SteamActivationStatus"), value.SteamActivationStatus);
+            out.name("SteamCountry").value(value.SteamCountry);
+            currencyAdapter.write(out.name("SteamCurrency"), value.SteamCurrency);
+            out.name("SteamId").value(value.SteamId);
+            out.name("SteamName").value(value.SteamName);
+            out.endObject();
+        }
+
+        @Override
+        public UserSteamInfo read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            UserSteamInfo value = new UserSteamInfo();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "SteamActivationStatus": value.SteamActivationStatus = titleActivationStatusAdapter.read(in); break;
+                        case "SteamCountry": value.SteamCountry = PlayFabJson.readString(in); break;
+                        case "SteamCurrency": value.SteamCurrency = currencyAdapter.read(in); break;
+                        case "SteamId": value.SteamId = PlayFabJson.readString(in); break;
+                        case "SteamName": value.SteamName = PlayFabJson.readString(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class UserTitleInfoAdapter extends TypeAdapter<UserTitleInfo> {
+        private final TypeAdapter<Date> dateAdapter;
+        private final TypeAdapter<UserOrigination> userOriginationAdapter;
+        private final TypeAdapter<EntityKey> entityKeyAdapter;
+
+        private UserTitleInfoAdapter(Gson gson) {
+            dateAdapter = gson.getAdapter(Date.class);
+            userOriginationAdapter = gson.getAdapter(UserOrigination.class);
+            entityKeyAdapter = gson.getAdapter(EntityKey.class);
+        }
+
+        @Override
+        public void write(JsonWriter out, UserTitleInfo value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.name("AvatarUrl").value(value.AvatarUrl);
+            dateAdapter.write(out.name("Created"), value.Created);
+            out.name("DisplayName").value(value.DisplayName);
+            dateAdapter.write(out.name("FirstLogin"), value.FirstLogin);
+            out.name("isBanned").value(value.isBanned);
+            dateAdapter.write(out.name("LastLogin"), value.LastLogin);
+            userOriginationAdapter.write(out.name("Origination"), value.Origination);
+            entityKeyAdapter.write(out.name("TitlePlayerAccount"), value.TitlePlayerAccount);
+            out.endObject();
+        }
+
+        @Override
+        public UserTitleInfo read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            UserTitleInfo value = new UserTitleInfo();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "AvatarUrl": value.AvatarUrl = PlayFabJson.readString(in); break;
+                        case "Created": value.Created = dateAdapter.read(in); break;
+                        case "DisplayName": value.DisplayName = PlayFabJson.readString(in); break;
+                        case "FirstLogin": value.FirstLogin = dateAdapter.read(in); break;
+                        case "isBanned": value.isBanned = PlayFabJson.readBoolean(in); break;
+                        case "LastLogin": value.LastLogin = dateAdapter.read(in); break;
+                        case "Origination": value.Origination = userOriginationAdapter.read(in); break;
+                        case "TitlePlayerAccount": value.TitlePlayerAccount = entityKeyAdapter.read(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class UserTwitchInfoAdapter extends TypeAdapter<UserTwitchInfo> {
+        private UserTwitchInfoAdapter(Gson gson) {
+        }
+
+        @Override
+        public void write(JsonWriter out, UserTwitchInfo value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.name("TwitchId").value(value.TwitchId);
+            out.name("TwitchUserName").value(value.TwitchUserName);
+            out.endObject();
+        }
+
+        @Override
+        public UserTwitchInfo read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            UserTwitchInfo value = new UserTwitchInfo();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "TwitchId": value.TwitchId = PlayFabJson.readString(in); break;
+                        case "TwitchUserName": value.TwitchUserName = PlayFabJson.readString(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class UserXboxInfoAdapter extends TypeAdapter<UserXboxInfo> {
+        private UserXboxInfoAdapter(Gson gson) {
+        }
+
+        @Override
+        public void write(JsonWriter out, UserXboxInfo value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.name("XboxUserId").value(value.XboxUserId);
+            out.endObject();
+        }
+
+        @Override
+        public UserXboxInfo read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            UserXboxInfo value = new UserXboxInfo();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "XboxUserId": value.XboxUserId = PlayFabJson.readString(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class ValueToDateModelAdapter extends TypeAdapter<ValueToDateModel> {
+        private ValueToDateModelAdapter(Gson gson) {
+        }
+
+        @Override
+        public void write(JsonWriter out, ValueToDateModel value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.name("Currency").value(value.Currency);
+            out.name("TotalValue").value(value.TotalValue);
+            out.name("TotalValueAsDecimal").value(value.TotalValueAsDecimal);
+            out.endObject();
+        }
+
+        @Override
+        public ValueToDateModel read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            ValueToDateModel value = new ValueToDateModel();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "Currency": value.Currency = PlayFabJson.readString(in); break;
+                        case "TotalValue": value.TotalValue = PlayFabJson.readLong(in); break;
+                        case "TotalValueAsDecimal": value.TotalValueAsDecimal = PlayFabJson.readString(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class VariableAdapter extends TypeAdapter<Variable> {
+        private VariableAdapter(Gson gson) {
+        }
+
+        @Override
+        public void write(JsonWriter out, Variable value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.name("Name").value(value.Name);
+            out.name("Value").value(value.Value);
+            out.endObject();
+        }
+
+        @Override
+        public Variable read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            Variable value = new Variable();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "Name": value.Name = PlayFabJson.readString(in); break;
+                        case "Value": value.Value = PlayFabJson.readString(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class VirtualCurrencyRechargeTimeAdapter extends TypeAdapter<VirtualCurrencyRechargeTime> {
+        private final TypeAdapter<Date> dateAdapter;
+
+        private VirtualCurrencyRechargeTimeAdapter(Gson gson) {
+            dateAdapter = gson.getAdapter(Date.class);
+        }
+
+        @Override
+        public void write(JsonWriter out, VirtualCurrencyRechargeTime value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.name("RechargeMax").value(value.RechargeMax);
+            dateAdapter.write(out.name("RechargeTime"), value.RechargeTime);
+            out.name("SecondsToRecharge").value(value.SecondsToRecharge);
+            out.endObject();
+        }
+
+        @Override
+        public VirtualCurrencyRechargeTime read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            VirtualCurrencyRechargeTime value = new VirtualCurrencyRechargeTime();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "RechargeMax": value.RechargeMax = PlayFabJson.readInteger(in); break;
+                        case "RechargeTime": value.RechargeTime = dateAdapter.read(in); break;
+                        case "SecondsToRecharge": value.SecondsToRecharge = PlayFabJson.readInteger(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class WriteEventResponseAdapter extends TypeAdapter<WriteEventResponse> {
+        private WriteEventResponseAdapter(Gson gson) {
+        }
+
+        @Override
+        public void write(JsonWriter out, WriteEventResponse value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.name("EventId").value(value.EventId);
+            out.endObject();
+        }
+
+        @Override
+        public WriteEventResponse read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            WriteEventResponse value = new WriteEventResponse();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "EventId": value.EventId = PlayFabJson.readString(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class WriteServerCharacterEventRequestAdapter extends TypeAdapter<WriteServerCharacterEventRequest> {
+        private final TypeAdapter<Object> objectAdapter;
+        private final TypeAdapter<String> stringAdapter;
+        private final TypeAdapter<Date> dateAdapter;
+
+        private WriteServerCharacterEventRequestAdapter(Gson gson) {
+            objectAdapter = gson.getAdapter(Object.class);
+            stringAdapter = gson.getAdapter(String.class);
+            dateAdapter = gson.getAdapter(Date.class);
+        }
+
+        @Override
+        public void write(JsonWriter out, WriteServerCharacterEventRequest value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            PlayFabJson.writeMap(out.name("Body"), value.Body, objectAdapter);
+            out.name("CharacterId").value(value.CharacterId);
+            PlayFabJson.writeMap(out.name("CustomTags"), value.CustomTags, stringAdapter);
+            out.name("EventName").value(value.EventName);
+            out.name("PlayFabId").value(value.PlayFabId);
+            dateAdapter.write(out.name("Timestamp"), value.Timestamp);
+            out.endObject();
+        }
+
+        @Override
+        public WriteServerCharacterEventRequest read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            WriteServerCharacterEventRequest value = new WriteServerCharacterEventRequest();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "Body": value.Body = PlayFabJson.readMap(in, objectAdapter); break;
+                        case "CharacterId": value.CharacterId = PlayFabJson.readString(in); break;
+                        case "CustomTags": value.CustomTags = PlayFabJson.readMap(in, stringAdapter); break;
+                        case "EventName": value.EventName = PlayFabJson.readString(in); break;
+                        case "PlayFabId": value.PlayFabId = PlayFabJson.readString(in); break;
+                        case "Timestamp": value.Timestamp = dateAdapter.read(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class WriteServerPlayerEventRequestAdapter extends TypeAdapter<WriteServerPlayerEventRequest> {
+        private final TypeAdapter<Object> objectAdapter;
+        private final TypeAdapter<String> stringAdapter;
+        private final TypeAdapter<Date> dateAdapter;
+
+        private WriteServerPlayerEventRequestAdapter(Gson gson) {
+            objectAdapter = gson.getAdapter(Object.class);
+            stringAdapter = gson.getAdapter(String.class);
+            dateAdapter = gson.getAdapter(Date.class);
+        }
+
+        @Override
+        public void write(JsonWriter out, WriteServerPlayerEventRequest value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            PlayFabJson.writeMap(out.name("Body"), value.Body, objectAdapter);
+            PlayFabJson.writeMap(out.name("CustomTags"), value.CustomTags, stringAdapter);
+            out.name("EventName").value(value.EventName);
+            out.name("PlayFabId").value(value.PlayFabId);
+            dateAdapter.write(out.name("Timestamp"), value.Timestamp);
+            out.endObject();
+        }
+
+        @Override
+        public WriteServerPlayerEventRequest read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            WriteServerPlayerEventRequest value = new WriteServerPlayerEventRequest();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "Body": value.Body = PlayFabJson.readMap(in, objectAdapter); break;
+                        case "CustomTags": value.CustomTags = PlayFabJson.readMap(in, stringAdapter); break;
+                        case "EventName": value.EventName = PlayFabJson.readString(in); break;
+                        case "PlayFabId": value.PlayFabId = PlayFabJson.readString(in); break;
+                        case "Timestamp": value.Timestamp = dateAdapter.read(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class WriteTitleEventRequestAdapter extends TypeAdapter<WriteTitleEventRequest> {
+        private final TypeAdapter<Object> objectAdapter;
+        private final TypeAdapter<String> stringAdapter;
+        private final TypeAdapter<Date> dateAdapter;
+
+        private WriteTitleEventRequestAdapter(Gson gson) {
+            objectAdapter = gson.getAdapter(Object.class);
+            stringAdapter = gson.getAdapter(String.class);
+            dateAdapter = gson.getAdapter(Date.class);
+        }
+
+        @Override
+        public void write(JsonWriter out, WriteTitleEventRequest value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            PlayFabJson.writeMap(out.name("Body"), value.Body, objectAdapter);
+            PlayFabJson.writeMap(out.name("CustomTags"), value.CustomTags, stringAdapter);
+            out.name("EventName").value(value.EventName);
+            dateAdapter.write(out.name("Timestamp"), value.Timestamp);
+            out.endObject();
+        }
+
+        @Override
+        public WriteTitleEventRequest read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            WriteTitleEventRequest value = new WriteTitleEventRequest();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "Body": value.Body = PlayFabJson.readMap(in, objectAdapter); break;
+                        case "CustomTags": value.CustomTags = PlayFabJson.readMap(in, stringAdapter); break;
+                        case "EventName": value.EventName = PlayFabJson.readString(in); break;
+                        case "Timestamp": value.Timestamp = dateAdapter.read(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+
+    private static class XboxLiveAccountPlayFabIdPairAdapter extends TypeAdapter<XboxLiveAccountPlayFabIdPair> {
+        private XboxLiveAccountPlayFabIdPairAdapter(Gson gson) {
+        }
+
+        @Override
+        public void write(JsonWriter out, XboxLiveAccountPlayFabIdPair value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.name("PlayFabId").value(value.PlayFabId);
+            out.name("XboxLiveAccountId").value(value.XboxLiveAccountId);
+            out.endObject();
+        }
+
+        @Override
+        public XboxLiveAccountPlayFabIdPair read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            XboxLiveAccountPlayFabIdPair value = new XboxLiveAccountPlayFabIdPair();
+            try {
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "PlayFabId": value.PlayFabId = PlayFabJson.readString(in); break;
+                        case "XboxLiveAccountId": value.XboxLiveAccountId = PlayFabJson.readString(in); break;
+                        default: in.skipValue(); break;
+                    }
+                }
+                in.endObject();
+            } catch (IllegalStateException e) {
+                throw new JsonSyntaxException(e);
+            }
+            return value;
+        }
+    }
+}
@@ -0,0 +1,219 @@
+package com.playfab;
+
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.*;
+
+import com.playfab.PlayFabErrors.*;
+import com.playfab.PlayFabServerModels.*;
+import com.playfab.internal.PlayFabExecutors;
+import com.playfab.internal.PlayFabHTTP;
+
+/**
+ * Remembers the outcome of AuthenticateSessionTicket calls, so a game server validating the same ticket again, on a
+ * reconnect, gets the answer without another call. Valid tickets, with the UserAccountInfo they belong to, are kept for
+ * TimeToLive. Tickets the service rejected as invalid or expired are kept for the shorter NegativeTimeToLive, so a client
+ * retrying a bad ticket cannot make the server call again and again. Throttling, outages and other errors are not kept.
+ *
+ * Concurrent validations of one ticket are single-flight: the first makes the call and the rest share its result, so a
+ * reconnect storm costs one call per distinct ticket. At most MaxEntries tickets are kept. The cache drops the oldest
+ * first, which, as every entry lives as long, are the next to expire.
+ *
+ * Results are shared between callers, so treat them as read-only.
+ */
+public class PlayFabSessionTicketCache {
+    public static class Settings {
+        public int MaxEntries = 10000; // Tickets kept at once
+        public long TimeToLiveMilliseconds = 300000; // How long a valid ticket is trusted without asking the service again
+        public long NegativeTimeToLiveMilliseconds = 30000; // How long an invalid or expired ticket is failed without asking again
+    }
+
+    public static class Stats {
+        public int size;
+        public long hits; // Validations answered from the cache, valid or not
+        public long negativeHits; // Hits on tickets the service rejected
+        public long calls; // AuthenticateSessionTicket calls made
+        public long coalesced; // Validations that joined a call already in flight for their ticket
+        public long evictions; // Entries dropped to stay within MaxEntries
+    }
+
+    private static class Entry {
+        private final String sessionTicket;
+        private final PlayFabResult<AuthenticateSessionTicketResult> result;
+        private final boolean valid;
+        private final long expiresAt;
+
+        private Entry(String sessionTicket, PlayFabResult<AuthenticateSessionTicketResult> result, boolean valid, long expiresAt) {
+            this.sessionTicket = sessionTicket;
+            this.result = result;
+            this.valid = valid;
+            this.expiresAt = expiresAt;
+        }
+    }
+
+    private final PlayFabServerInstanceAPI server;
+    private final int maxEntries;
+    private final long timeToLiveNanos;
+    private final long negativeTimeToLiveNanos;
+    private final ConcurrentHashMap<String, Entry> entries = new ConcurrentHashMap<String, Entry>();
+    // Every entry ever stored, oldest first, including ones since replaced or removed. Each entry in the map is in here,
+    // so keeping this to maxEntries bounds both
+    private final ConcurrentLinkedQueue<Entry> insertionOrder = new ConcurrentLinkedQueue<Entry>();
+    private final AtomicInteger queued = new AtomicInteger();
+    private final ConcurrentHashMap<String, PlayFabFuture<PlayFabResult<AuthenticateSessionTicketResult>>> inFlight =
+        new ConcurrentHashMap<String, PlayFabFuture<PlayFabResult<AuthenticateSessionTicketResult>>>();
+
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong negativeHits = new AtomicLong();
+    private final AtomicLong calls = new AtomicLong();
+    private final AtomicLong coalesced = new AtomicLong();
+    private final AtomicLong evictions = new AtomicLong();
+
+    /**
+     * A cache validating tickets through PlayFabServerAPI, with the developer secret key in PlayFabSettings
+     */
+    public PlayFabSessionTicketCache(Settings settings) {
+        this(null, settings);
+    }
+
+    /**
+     * A cache validating tickets through a server instance API, with the developer secret key of its context
+     */
+    public PlayFabSessionTicketCache(PlayFabServerInstanceAPI server, Settings settings) {
+        this.server = server;
+        maxEntries = Math.max(1, settings.MaxEntries);
+        timeToLiveNanos = TimeUnit.MILLISECONDS.toNanos(Math.max(0, settings.TimeToLiveMilliseconds));
+        negativeTimeToLiveNanos = TimeUnit.MILLISECONDS.toNanos(Math.max(0, settings.NegativeTimeToLiveMilliseconds));
+    }
+
+    /**
+     * Validates a ticket, from the cache or by calling AuthenticateSessionTicket, waiting for the answer
+     */
+    public PlayFabResult<AuthenticateSessionTicketResult> authenticate(String sessionTicket) {
+        try {
+            return authenticateAsync(sessionTicket).get();
+        } catch (Exception e) {
+            return failed(e.getMessage());
+        }
+    }
+
+    /**
+     * Validates a ticket, from the cache or by calling AuthenticateSessionTicket
+     * @return a future for the result, already complete if the ticket was cached
+     */
+    public PlayFabFuture<PlayFabResult<AuthenticateSessionTicketResult>> authenticateAsync(final String sessionTicket) {
+        if (sessionTicket == null)
+            throw new NullPointerException("sessionTicket");
+
+        PlayFabResult<AuthenticateSessionTicketResult> cached = lookup(sessionTicket);
+        if (cached != null)
+            return PlayFabFuture.completed(cached);
+
+        final PlayFabFuture<PlayFabResult<AuthenticateSessionTicketResult>> result = PlayFabFuture.incomplete();
+        PlayFabFuture<PlayFabResult<AuthenticateSessionTicketResult>> running = inFlight.putIfAbsent(sessionTicket, result);
+        if (running != null) {
+            coalesced.incrementAndGet();
+            return running;
+        }
+        // A call for the ticket may have finished between the lookup and taking the slot
+        cached = lookup(sessionTicket);
+        if (cached != null) {
+            inFlight.remove(sessionTicket, result);
+            result.complete(cached);
+            return result;
+        }
+
+        calls.incrementAndGet();
+        try {
+            PlayFabExecutors.getAsyncExecutor().execute(new Runnable() {
+                public void run() {
+                    PlayFabResult<AuthenticateSessionTicketResult> validated;
+                    try {
+                        AuthenticateSessionTicketRequest request = new AuthenticateSessionTicketRequest();
+                        request.SessionTicket = sessionTicket;
+                        validated = PlayFabServerAPI.privateAuthenticateSessionTicketAsync(server, request);
+                    } catch (Exception e) {
+                        validated = failed(e.getMessage());
+                    }
+                    store(sessionTicket, validated);
+                    inFlight.remove(sessionTicket, result);
+                    result.complete(validated);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            inFlight.remove(sessionTicket, result);
+            result.complete(failed(e.getMessage()));
+        }
+        return result;
+    }
+
+    /**
+     * Forgets a ticket, such as one whose player has been banned or logged out, so it is validated again next time
+     */
+    public void invalidate(String sessionTicket) {
+        entries.remove(sessionTicket);
+    }
+
+    public void clear() {
+        entries.clear();
+        while (insertionOrder.poll() != null)
+            queued.decrementAndGet();
+    }
+
+    public Stats getStats() {
+        Stats stats = new Stats();
+        stats.size = entries.size();
+        stats.hits = hits.get();
+        stats.negativeHits = negativeHits.get();
+        stats.calls = calls.get();
+        stats.coalesced = coalesced.get();
+        stats.evictions = evictions.get();
+        return stats;
+    }
+
+    private PlayFabResult<AuthenticateSessionTicketResult> lookup(String sessionTicket) {
+        Entry entry = entries.get(sessionTicket);
+        if (entry == null)
+            return null;
+        if (System.nanoTime() - entry.expiresAt >= 0) {
+            entries.remove(sessionTicket, entry);
+            return null;
+        }
+        hits.incrementAndGet();
+        if (!entry.valid)
+            negativeHits.incrementAndGet();
+        return entry.result;
+    }
+
+    private void store(String sessionTicket, PlayFabResult<AuthenticateSessionTicketResult> result) {
+        boolean valid;
+        if (result.Error == null && result.Result != null && result.Result.UserInfo != null)
+            valid = !Boolean.TRUE.equals(result.Result.IsSessionTicketExpired);
+        else if (result.Error != null && result.Error.pfErrorCode == PlayFabErrorCode.InvalidSessionTicket)
+            valid = false;
+        else
+            return;
+
+        long timeToLive = valid ? timeToLiveNanos : negativeTimeToLiveNanos;
+        if (timeToLive == 0)
+            return;
+        long now = System.nanoTime();
+        Entry entry = new Entry(sessionTicket, result, valid, now + timeToLive);
+        entries.put(sessionTicket, entry);
+        insertionOrder.offer(entry);
+        queued.incrementAndGet();
+        while (queued.get() > maxEntries) {
+            Entry oldest = insertionOrder.poll();
+            if (oldest == null)
+                break;
+            queued.decrementAndGet();
+            if (entries.remove(oldest.sessionTicket, oldest) && now - oldest.expiresAt < 0)
+                evictions.incrementAndGet();
+        }
+    }
+
+    private static PlayFabResult<AuthenticateSessionTicketResult> failed(String reason) {
+        PlayFabResult<AuthenticateSessionTicketResult> result = new PlayFabResult<AuthenticateSessionTicketResult>();
+        result.Error = PlayFabHTTP.GeneratePfError(-1, PlayFabErrorCode.Unknown, reason, null, null);
+        return result;
+    }
+}
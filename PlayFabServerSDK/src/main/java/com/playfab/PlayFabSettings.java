@@ -4,8 +4,15 @@ import java.lang.StringBuilder;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.Executor;
 
 import com.playfab.PlayFabErrors.ErrorCallback;
+import com.playfab.internal.PlayFabBulkheads;
+import com.playfab.internal.PlayFabCircuitBreaker;
+import com.playfab.internal.PlayFabRateLimiter;
+import com.playfab.internal.PlayFabRequestCoalescer;
+import com.playfab.internal.PlayFabResponseCache;
+import com.playfab.internal.PlayFabTransport;
 
 public class PlayFabSettings {
     public static String SdkVersion = "0.139.211012";
@@ -27,6 +34,47 @@ public class PlayFabSettings {
     public static String DeveloperSecretKey = null; // You must set this value for PlayFabSdk to work properly (Found in the Game Manager for your title, at the PlayFab Website)
     public static String ClientSessionTicket = null; // Set by any Client Login Call
 
+    public static int ConnectTimeoutMilliseconds = 60000; // Time allowed to open a connection to the PlayFab API server, and to wait for a free pooled connection
+    public static int ReadTimeoutMilliseconds = 60000; // Time allowed between bytes of the server response once connected
+    public static int MaxConnectionsPerHost = 20; // Concurrent keep-alive connections per PlayFab host. Read when the host is first contacted
+    public static boolean SetHttpMaxConnections = false; // Let the connection pool set the JVM-wide http.maxConnections system property to MaxConnectionsPerHost when it is unset, so the JDK parks that many sockets per host instead of 5. Affects every HttpURLConnection in the process
+    public static long ConnectionIdleTimeoutMilliseconds = 5000; // Kept-alive connections idle for longer than this are treated as closed (matches the JDK keep-alive default)
+    public static PlayFabTransport Transport = null; // Wire implementation used by every API call. Null uses the pooled HttpURLConnection transport. Set to a PlayFabHttp2Transport for HTTP/2 on Java 11+
+    public static Executor AsyncExecutor = null; // Runs the calls made through each API's async() surface. Null uses an SDK-managed pool of daemon threads
+    public static boolean UseVirtualThreads = false; // Java 21+: when AsyncExecutor is null, run each async() call on its own virtual thread instead of the SDK thread pool. Ignored on older runtimes
+    public static boolean CompressRequests = false; // Gzip request bodies of at least CompressionThresholdBytes. Responses are always accepted gzip or deflate encoded
+    public static int CompressionThresholdBytes = 1024; // Smallest request body, in bytes, that CompressRequests compresses
+    public static boolean UseReflectiveSerialization = false; // Serialize models with Gson's reflective adapters instead of the generated PlayFabXxxModelsAdapters
+    public static int MaxRetries = 0; // Times a call failing with a throttling or unavailability error (429, 503 or APIClientRequestRateLimitExceeded) is sent again, after a backoff. 0 returns every error at once
+    public static boolean RetryServerErrors = false; // Also retry other 5xx responses and DownstreamServiceUnavailable. The server may have applied such a call, so only enable this when every call you make is safe to repeat
+    public static long RetryBaseDelayMilliseconds = 100; // Shortest wait before a retry. Waits grow with decorrelated jitter from here
+    public static long RetryMaxDelayMilliseconds = 10000; // Longest wait before a retry. Errors whose retryAfterSeconds asks for longer are returned instead
+    public static double RetryBudgetRatio = 0.1; // Retries earned by each call, per API family. Caps retries at this fraction of calls while everything fails
+    public static int RetryBudgetBurst = 10; // Retries an API family can hold unspent, and so make at once
+    public static PlayFabBulkheads Bulkheads = null; // Gives each API family, or group of them, its own in-flight limit and optionally its own connections. Null lets every call compete for the same threads and connections
+    public static boolean AdaptiveConcurrency = false; // Limit the calls in flight to each endpoint, raising and lowering the limit with their latency. Calls over the limit queue
+    public static int AdaptiveConcurrencyInitialLimit = 20; // Calls in flight allowed to an endpoint before its latency has been measured
+    public static int AdaptiveConcurrencyMinLimit = 1; // Lowest the limit of an endpoint can fall
+    public static int AdaptiveConcurrencyMaxLimit = 200; // Highest the limit of an endpoint can rise
+    public static int AdaptiveConcurrencyMaxQueue = 100; // Calls that may wait for an endpoint at once. Calls beyond this fail with APIConcurrentRequestLimitExceeded
+    public static long AdaptiveConcurrencyQueueTimeoutMilliseconds = 5000; // Longest a call waits for room under its endpoint's limit before failing with APIConcurrentRequestLimitExceeded
+    public static boolean CircuitBreakerEnabled = false; // Fail calls at once, without sending them, to an API family (or endpoint) whose recent calls have mostly failed or been slow
+    public static boolean CircuitBreakerPerEndpoint = false; // Keep a circuit for each endpoint, such as /CloudScript/ExecuteFunction, instead of each API family, such as /CloudScript
+    public static long CircuitBreakerWindowMilliseconds = 10000; // Span of recent calls a closed circuit judges the failure and slow call rates over
+    public static int CircuitBreakerMinimumCalls = 20; // Calls the window must hold before the circuit can open
+    public static double CircuitBreakerFailureRate = 0.5; // Share of calls in the window failing with a throttling or unavailability error that opens the circuit
+    public static long CircuitBreakerSlowCallMilliseconds = 10000; // Calls taking longer than this count as slow
+    public static double CircuitBreakerSlowCallRate = 0.5; // Share of slow calls in the window that opens the circuit
+    public static long CircuitBreakerOpenMilliseconds = 5000; // Time an open circuit fails calls before letting probe calls through
+    public static int CircuitBreakerHalfOpenProbes = 3; // Probe calls that must all succeed to close a circuit again
+    public static PlayFabCircuitBreaker.Listener CircuitBreakerListener = null; // Told when any circuit opens, turns half-open or closes
+    public static PlayFabRateLimiter RateLimiter = null; // Paces calls per endpoint, API family or entity, waiting or failing locally rather than being throttled by the server. Null sends every call at once
+    public static PlayFabRequestCoalescer RequestCoalescer = null; // Lets concurrent identical calls to the endpoints it names share one round trip and result. Null sends every call
+    public static PlayFabResponseCache ResponseCache = null; // Serves responses of the endpoints it has a policy for from memory until they expire. Null sends every call
+    public static PlayFabEntityTokenManager EntityTokenManager = null; // Serves the entity token of the static API classes, refreshing it before it expires. Null uses EntityToken as login and GetEntityToken calls set it
+    public static PlayFabClassicEventRouter ClassicEventRouter = null; // Sends WritePlayerEvent, WriteCharacterEvent and WriteTitleEvent of the static API classes some other way, such as a PlayFabClassicEventBatcher. Instance APIs always send one request per event, with their own credentials. Null sends one request per event
+    public static boolean ClassicEventWaitForBatch = true; // Whether the blocking WritePlayerEvent, WriteCharacterEvent and WriteTitleEvent wait for a routed event's batch to be sent. False returns once it is queued, with no EventId, and failures only reach GlobalErrorHandler
+
     public static String GetURL(String apiCall) {
         StringBuilder sb = new StringBuilder(1000);
 
@@ -0,0 +1,191 @@
+package com.playfab.internal;
+
+import java.io.IOException;
+import java.util.Date;
+
+import com.google.gson.JsonSyntaxException;
+import com.google.gson.TypeAdapter;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
+
+/**
+ * ISO-8601 codec for every Date in the models, replacing Gson's SimpleDateFormat adapter, which parses under a single lock.
+ *
+ * Dates are written in UTC as yyyy-MM-dd'T'HH:mm:ss.SSS'Z'. Parsing accepts any number of fractional second digits (the
+ * server sends anywhere from none to seven), a Z or numeric offset, or no designator, which is read as UTC. A date with no
+ * time is midnight UTC. The codec keeps no shared state, so it needs no locking.
+ */
+public class PlayFabDateTypeAdapter extends TypeAdapter<Date> {
+    private static final long MILLIS_PER_DAY = 86400000L;
+
+    @Override
+    public void write(JsonWriter out, Date value) throws IOException {
+        if (value == null)
+            out.nullValue();
+        else
+            out.value(format(value));
+    }
+
+    @Override
+    public Date read(JsonReader in) throws IOException {
+        if (in.peek() == JsonToken.NULL) {
+            in.nextNull();
+            return null;
+        }
+        String text = in.nextString();
+        try {
+            return new Date(parse(text));
+        } catch (IllegalArgumentException e) {
+            throw new JsonSyntaxException(text, e);
+        }
+    }
+
+    /**
+     * @return the date as yyyy-MM-dd'T'HH:mm:ss.SSS'Z' in UTC
+     */
+    public static String format(Date date) {
+        long millis = date.getTime();
+        long days = millis / MILLIS_PER_DAY;
+        if (millis % MILLIS_PER_DAY < 0)
+            days--;
+        int millisOfDay = (int) (millis - days * MILLIS_PER_DAY);
+
+        // Civil date from days since the epoch, on the proleptic Gregorian calendar
+        long z = days + 719468;
+        long era = (z >= 0 ? z : z - 146096) / 146097;
+        int dayOfEra = (int) (z - era * 146097);
+        int yearOfEra = (dayOfEra - dayOfEra / 1460 + dayOfEra / 36524 - dayOfEra / 146096) / 365;
+        int dayOfYear = dayOfEra - (365 * yearOfEra + yearOfEra / 4 - yearOfEra / 100);
+        int mp = (5 * dayOfYear + 2) / 153;
+        int day = dayOfYear - (153 * mp + 2) / 5 + 1;
+        int month = mp < 10 ? mp + 3 : mp - 9;
+        long year = yearOfEra + era * 400 + (month <= 2 ? 1 : 0);
+
+        if (year < 0 || year > 9999)
+            return String.format("%04d-%02d-%02dT%02d:%02d:%02d.%03dZ", year, month, day, millisOfDay / 3600000,
+                millisOfDay / 60000 % 60, millisOfDay / 1000 % 60, millisOfDay % 1000);
+        char[] out = new char[24];
+        put(out, 0, (int) year, 4);
+        out[4] = '-';
+        put(out, 5, month, 2);
+        out[7] = '-';
+        put(out, 8, day, 2);
+        out[10] = 'T';
+        put(out, 11, millisOfDay / 3600000, 2);
+        out[13] = ':';
+        put(out, 14, millisOfDay / 60000 % 60, 2);
+        out[16] = ':';
+        put(out, 17, millisOfDay / 1000 % 60, 2);
+        out[19] = '.';
+        put(out, 20, millisOfDay % 1000, 3);
+        out[23] = 'Z';
+        return new String(out);
+    }
+
+    private static void put(char[] out, int offset, int value, int digits) {
+        for (int i = offset + digits - 1; i >= offset; i--) {
+            out[i] = (char) ('0' + value % 10);
+            value /= 10;
+        }
+    }
+
+    /**
+     * @return milliseconds since the epoch. Fractions finer than a millisecond are truncated
+     * @throws IllegalArgumentException if the text is not an ISO-8601 date or date and time
+     */
+    public static long parse(String text) {
+        int length = text.length();
+        if (length < 10 || text.charAt(4) != '-' || text.charAt(7) != '-')
+            throw new IllegalArgumentException("Not an ISO-8601 date: " + text);
+        int year = digits(text, 0, 4);
+        int month = digits(text, 5, 2);
+        int day = digits(text, 8, 2);
+        if (month < 1 || month > 12 || day < 1 || day > daysInMonth(year, month))
+            throw new IllegalArgumentException("Date out of range: " + text);
+
+        int hour = 0, minute = 0, second = 0, millis = 0, offsetMinutes = 0;
+        int pos = 10;
+        if (pos < length && (text.charAt(pos) == 'T' || text.charAt(pos) == 't' || text.charAt(pos) == ' ')) {
+            if (length < pos + 6 || text.charAt(pos + 3) != ':')
+                throw new IllegalArgumentException("Not an ISO-8601 time: " + text);
+            hour = digits(text, pos + 1, 2);
+            minute = digits(text, pos + 4, 2);
+            pos += 6;
+            if (pos < length && text.charAt(pos) == ':') {
+                second = digits(text, pos + 1, 2);
+                pos += 3;
+                if (pos < length && (text.charAt(pos) == '.' || text.charAt(pos) == ',')) {
+                    int start = ++pos;
+                    while (pos < length && text.charAt(pos) >= '0' && text.charAt(pos) <= '9') {
+                        if (pos - start < 3)
+                            millis = millis * 10 + (text.charAt(pos) - '0');
+                        pos++;
+                    }
+                    if (pos == start)
+                        throw new IllegalArgumentException("Empty fraction of a second: " + text);
+                    for (int i = pos - start; i < 3; i++)
+                        millis *= 10;
+                }
+            }
+            if (hour > 23 || minute > 59 || second > 60)
+                throw new IllegalArgumentException("Time out of range: " + text);
+
+            if (pos < length) {
+                char designator = text.charAt(pos);
+                if (designator == 'Z' || designator == 'z') {
+                    pos++;
+                } else if (designator == '+' || designator == '-') {
+                    int offsetHours = digits(text, pos + 1, 2);
+                    int offsetMins = 0;
+                    pos += 3;
+                    if (pos < length && text.charAt(pos) == ':')
+                        pos++;
+                    if (pos < length) {
+                        offsetMins = digits(text, pos, 2);
+                        pos += 2;
+                    }
+                    if (offsetHours > 18 || offsetMins > 59)
+                        throw new IllegalArgumentException("Offset out of range: " + text);
+                    offsetMinutes = (designator == '-' ? -1 : 1) * (offsetHours * 60 + offsetMins);
+                }
+            }
+        }
+        if (pos != length)
+            throw new IllegalArgumentException("Unexpected text after the date: " + text);
+
+        long days = daysFromCivil(year, month, day);
+        return days * MILLIS_PER_DAY + ((hour * 60L + minute - offsetMinutes) * 60 + second) * 1000 + millis;
+    }
+
+    private static int digits(String text, int offset, int count) {
+        if (offset + count > text.length())
+            throw new IllegalArgumentException("Truncated date: " + text);
+        int value = 0;
+        for (int i = offset; i < offset + count; i++) {
+            char c = text.charAt(i);
+            if (c < '0' || c > '9')
+                throw new IllegalArgumentException("Expected a digit at " + i + ": " + text);
+            value = value * 10 + (c - '0');
+        }
+        return value;
+    }
+
+    private static int daysInMonth(int year, int month) {
+        switch (month) {
+            case 2: return (year % 4 == 0 && (year % 100 != 0 || year % 400 == 0)) ? 29 : 28;
+            case 4: case 6: case 9: case 11: return 30;
+            default: return 31;
+        }
+    }
+
+    // Days since the epoch of a civil date, on the proleptic Gregorian calendar
+    private static long daysFromCivil(int year, int month, int day) {
+        long y = month <= 2 ? year - 1 : year;
+        long era = (y >= 0 ? y : y - 399) / 400;
+        int yearOfEra = (int) (y - era * 400);
+        int dayOfYear = (153 * (month > 2 ? month - 3 : month + 9) + 2) / 5 + day - 1;
+        int dayOfEra = yearOfEra * 365 + yearOfEra / 4 - yearOfEra / 100 + dayOfYear;
+        return era * 146097 + dayOfEra - 719468;
+    }
+}
@@ -0,0 +1,103 @@
+package com.playfab.internal;
+
+import java.lang.reflect.Method;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.*;
+
+import com.playfab.PlayFabSettings;
+
+/**
+ * Threads owned by the SDK
+ */
+public class PlayFabExecutors {
+    private static final Method newVirtualThreadPerTaskExecutor = findVirtualThreadFactoryMethod();
+    private static volatile ExecutorService defaultAsyncExecutor = null;
+    private static volatile ExecutorService virtualAsyncExecutor = null;
+    private static volatile ExecutorService sharedCallExecutor = null;
+
+    /**
+     * @return true if this runtime can start virtual threads (Java 21+)
+     */
+    public static boolean isVirtualThreadSupported() {
+        return newVirtualThreadPerTaskExecutor != null;
+    }
+
+    /**
+     * @return PlayFabSettings.AsyncExecutor if set, otherwise one virtual thread per call when PlayFabSettings.UseVirtualThreads
+     * is on and supported, otherwise an SDK-managed pool of daemon threads
+     */
+    public static Executor getAsyncExecutor() {
+        Executor configured = PlayFabSettings.AsyncExecutor;
+        if (configured != null)
+            return configured;
+        if (PlayFabSettings.UseVirtualThreads && isVirtualThreadSupported())
+            return getVirtualThreadExecutor();
+
+        ExecutorService executor = defaultAsyncExecutor;
+        if (executor == null) {
+            synchronized (PlayFabExecutors.class) {
+                executor = defaultAsyncExecutor;
+                if (executor == null)
+                    defaultAsyncExecutor = executor = Executors.newCachedThreadPool(newDaemonThreadFactory("PlayFab-async-"));
+            }
+        }
+        return executor;
+    }
+
+    /**
+     * @return an SDK-managed pool of daemon threads for calls made on behalf of several callers, such as coalesced calls.
+     * It is never PlayFabSettings.AsyncExecutor, so callers waiting on a shared call cannot hold every thread it could run on
+     */
+    public static Executor getSharedCallExecutor() {
+        ExecutorService executor = sharedCallExecutor;
+        if (executor == null) {
+            synchronized (PlayFabExecutors.class) {
+                executor = sharedCallExecutor;
+                if (executor == null)
+                    sharedCallExecutor = executor = Executors.newCachedThreadPool(newDaemonThreadFactory("PlayFab-shared-"));
+            }
+        }
+        return executor;
+    }
+
+    private static ExecutorService getVirtualThreadExecutor() {
+        ExecutorService executor = virtualAsyncExecutor;
+        if (executor == null) {
+            synchronized (PlayFabExecutors.class) {
+                executor = virtualAsyncExecutor;
+                if (executor == null) {
+                    try {
+                        virtualAsyncExecutor = executor = (ExecutorService) newVirtualThreadPerTaskExecutor.invoke(null);
+                    } catch (Exception e) {
+                        throw new IllegalStateException("Unable to start the virtual thread executor", e);
+                    }
+                }
+            }
+        }
+        return executor;
+    }
+
+    // Looked up reflectively, so the SDK keeps building and running on Java 7
+    private static Method findVirtualThreadFactoryMethod() {
+        try {
+            return Executors.class.getMethod("newVirtualThreadPerTaskExecutor");
+        } catch (Exception e) {
+            return null;
+        }
+    }
+
+    /**
+     * @return a factory for daemon threads named namePrefix followed by a sequence number
+     */
+    public static ThreadFactory newDaemonThreadFactory(final String namePrefix) {
+        return new ThreadFactory() {
+            private final AtomicInteger threadCount = new AtomicInteger();
+
+            public Thread newThread(Runnable task) {
+                Thread thread = new Thread(task, namePrefix + threadCount.incrementAndGet());
+                thread.setDaemon(true);
+                return thread;
+            }
+        };
+    }
+}
@@ -0,0 +1,68 @@
+package com.playfab.internal;
+
+import java.io.*;
+import java.util.*;
+
+/**
+ * The wire layer behind PlayFabHTTP.doPost. An implementation sends one JSON POST and hands back the raw response, while
+ * request serialization and PlayFab error handling stay in PlayFabHTTP.
+ * Select the implementation used by every API call with PlayFabSettings.Transport.
+ */
+public interface PlayFabTransport {
+    /**
+     * Sends a single POST request
+     * @param url Full request url, including query parameters
+     * @param headers Request headers, excluding Content-Length which is derived from the body
+     * @param body Request body, written straight to the connection
+     * @return The response, whose body must be closed by the caller
+     * @throws IOException if the request could not be sent or no response status was received
+     */
+    public Response post(String url, Map<String, String> headers, RequestBody body) throws IOException;
+
+    /**
+     * A request body that serializes itself onto the connection, so it never has to exist as a whole in memory
+     */
+    public static interface RequestBody {
+        /**
+         * @return the size of the body in bytes, or -1 if it is only known once written (sent chunked)
+         */
+        public long getContentLength();
+
+        /**
+         * @return the Content-Encoding the body is written in, or null if it is plain JSON
+         */
+        public String getContentEncoding();
+
+        /**
+         * Writes the whole body. Implementations flush, but do not close, the stream
+         */
+        public void writeTo(OutputStream out) throws IOException;
+    }
+
+    /**
+     * A received response status, with the still unread response body
+     */
+    public static class Response implements Closeable {
+        public final int httpCode;
+        public final InputStream body; // Response or error body. Null if the server sent none
+        private final Map<String, String> headers;
+
+        /**
+         * @param headers Response headers, keyed by lower-case header name
+         */
+        public Response(int httpCode, Map<String, String> headers, InputStream body) {
+            this.httpCode = httpCode;
+            this.headers = headers;
+            this.body = body;
+        }
+
+        public String getHeader(String name) {
+            return headers == null ? null : headers.get(name.toLowerCase(Locale.ROOT));
+        }
+
+        public void close() throws IOException {
+            if (body != null)
+                body.close();
+        }
+    }
+}